@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.tr181.Device;
+import org.broadbandforum.tr181.DeviceCompact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converts a TR-181 gateway with 256 hosts and 64 WiFi stations between the
+ * JAXB entities and their compact flavor, generated with
+ * {@code -Acwmp.compact=true}.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactObjectBenchmark {
+
+  private Device device;
+  private DeviceCompact compact;
+
+  @Setup
+  public void setup() {
+    device = Fixtures.device(256, 64);
+    compact = DeviceCompact.of(device);
+  }
+
+  @Benchmark
+  public DeviceCompact toCompact() {
+    return DeviceCompact.of(device);
+  }
+
+  @Benchmark
+  public Device toEntity() {
+    return compact.toEntity();
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Constructs one instance of every entity class of a data model module,
+ * including the field initializers.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+
+  @Param({"tr069", "tr104", "tr106", "tr135", "tr140", "tr143", "tr157", "tr181", "tr196", "tr262"})
+  private String module;
+
+  private ObjectDescriptor<?>[] objects;
+
+  @Setup
+  public void setup() {
+    String prefix = "org.broadbandforum." + module + ".";
+    for (Metamodel metamodel : Metamodel.installed(getClass().getClassLoader())) {
+      if (metamodel.getClass().getName().startsWith(prefix)) {
+        objects = metamodel.getObjects().toArray(new ObjectDescriptor<?>[0]);
+      }
+    }
+    if (objects == null) {
+      throw new IllegalStateException("No metamodel installed for " + module);
+    }
+  }
+
+  @Benchmark
+  public void construct(Blackhole blackhole) {
+    for (ObjectDescriptor<?> object : objects) {
+      blackhole.consume(object.newInstance());
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.metamodel.CounterDeltaEngine;
+import org.broadbandforum.metamodel.CounterDeltas;
+import org.broadbandforum.tr181.device.ip.Interface;
+import org.broadbandforum.tr181.device.ip._interface.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computes the counter deltas of 1024 Device.IP.Interface.{i}. snapshot
+ * pairs, reusing one result.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterDeltaBenchmark {
+
+  private static final int INTERFACES = 1024;
+
+  private final Interface[] previous = new Interface[INTERFACES];
+  private final Interface[] current = new Interface[INTERFACES];
+  private CounterDeltaEngine engine;
+  private CounterDeltas deltas;
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < INTERFACES; i++) {
+      previous[i] = snapshot(4_000_000_000L + i, 10_000L * i);
+      current[i] = snapshot(i % 8 == 0 ? 1_000L * i : 4_100_000_000L + i, 10_000L * i + 500);
+    }
+    engine = CounterDeltaEngine.of(Interface.class);
+    deltas = engine.newDeltas();
+  }
+
+  private static Interface snapshot(long bytes, long packets) {
+    return new Interface().withStats(new Stats()
+      .withBytesSent(bytes)
+      .withBytesReceived(bytes * 2)
+      .withPacketsSent(packets)
+      .withPacketsReceived(packets * 2)
+      .withErrorsSent(0L)
+      .withErrorsReceived(1L)
+      .withDiscardPacketsSent(0L)
+      .withDiscardPacketsReceived(0L));
+  }
+
+  @Benchmark
+  public long compute() {
+    long total = 0;
+    for (int i = 0; i < INTERFACES; i++) {
+      engine.compute(previous[i], current[i], deltas);
+      total += deltas.getDelta(0);
+    }
+    return total;
+  }
+
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.time.LocalDateTime;
+import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.common.StatsCounter32;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.tr069.InternetGatewayDevice;
+import org.broadbandforum.tr069.internetgatewaydevice.DeviceInfo;
+import org.broadbandforum.tr069.internetgatewaydevice.LANDevice;
+import org.broadbandforum.tr069.internetgatewaydevice.ManagementServer;
+import org.broadbandforum.tr069.internetgatewaydevice.WANDevice;
+import org.broadbandforum.tr069.internetgatewaydevice.landevice.WLANConfiguration;
+import org.broadbandforum.tr069.internetgatewaydevice.wandevice.WANConnectionDevice;
+import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.WANIPConnection;
+import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.wanipconnection.PortMapping;
+import org.broadbandforum.tr135.STBService;
+import org.broadbandforum.tr135.stbservice.AVPlayers;
+import org.broadbandforum.tr135.stbservice.AVStreams;
+import org.broadbandforum.tr135.stbservice.ServiceMonitoring;
+import org.broadbandforum.tr135.stbservice.avplayers.AVPlayer;
+import org.broadbandforum.tr135.stbservice.avstreams.AVStream;
+import org.broadbandforum.tr135.stbservice.servicemonitoring.MainStream;
+import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.Total;
+import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.total.MPEG2TSStats;
+import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.total.RTPStats;
+import org.broadbandforum.tr181.Device;
+import org.broadbandforum.tr181.device.Hosts;
+import org.broadbandforum.tr181.device.WiFi;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.broadbandforum.tr181.device.wifi.AccessPoint;
+import org.broadbandforum.tr181.device.wifi.Radio;
+import org.broadbandforum.tr181.device.wifi.SSID;
+import org.broadbandforum.tr181.device.wifi.accesspoint.AssociatedDevice;
+import org.broadbandforum.tr181.device.wifi.radio.Stats;
+import org.broadbandforum.tr196.FAPService;
+import org.broadbandforum.tr196.fapservice.REM;
+import org.broadbandforum.tr196.fapservice.rem.LTE;
+import org.broadbandforum.tr196.fapservice.rem.UMTS;
+import org.broadbandforum.tr196.fapservice.rem.umts.GSM;
+import org.broadbandforum.tr196.fapservice.rem.umts.WCDMA;
+
+/**
+ * Representative entity trees used by the benchmarks.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class Fixtures {
+
+  private Fixtures() {
+  }
+
+  /**
+   * @param module the data model module, e.g. "tr181"
+   * @return the representative tree of the module root object
+   */
+  public static Object tree(String module) {
+    switch (module) {
+      case "tr069":
+        return internetGatewayDevice(64);
+      case "tr135":
+        return stbService(8);
+      case "tr181":
+        return device(256, 64);
+      case "tr196":
+        return fapService(32);
+      default:
+        throw new IllegalArgumentException("No fixture for module " + module);
+    }
+  }
+
+  /**
+   * @param hosts the number of Device.Hosts.Host rows
+   * @return a TR-181 gateway with two radios and the given number of hosts
+   */
+  public static Device device(int hosts) {
+    return device(hosts, 0);
+  }
+
+  /**
+   * @param hosts    the number of Device.Hosts.Host rows
+   * @param stations the number of associated WiFi stations, spread over one
+   *                 access point per radio
+   * @return a TR-181 gateway with two radios and the given number of hosts and
+   *         stations
+   */
+  public static Device device(int hosts, int stations) {
+    WiFi wifi = new WiFi();
+    for (int i = 0; i < 2; i++) {
+      wifi.withRadio(new Radio()
+        .withEnable(true)
+        .withStatus("Up")
+        .withName("wl" + i)
+        .withChannel(i == 0 ? 6L : 36L)
+        .withOperatingFrequencyBand(i == 0 ? "2.4GHz" : "5GHz")
+        .withStats(new Stats()
+          .withBytesSent(1_000_000L * (i + 1))
+          .withBytesReceived(2_000_000L * (i + 1))
+          .withPacketsSent(10_000L)
+          .withPacketsReceived(20_000L)));
+      wifi.withSSID(new SSID()
+        .withEnable(true)
+        .withStatus("Up")
+        .withAlias(Alias.valueOf("cpe-ssid-" + i))
+        .withName("wl" + i)
+        .withLowerLayers("Device.WiFi.Radio." + (i + 1))
+        .withBssID(MACAddress.valueOf(0x001a2b000000L + i))
+        .withSsiD("keybridge"));
+      AccessPoint accessPoint = new AccessPoint()
+        .withEnable(true)
+        .withStatus("Enabled")
+        .withAlias(Alias.valueOf("cpe-ap-" + i))
+        .withSsiDReference("Device.WiFi.SSID." + (i + 1));
+      for (int j = i; j < stations; j += 2) {
+        accessPoint.withAssociatedDevice(new AssociatedDevice()
+          .withMacAddress(MACAddress.valueOf(0x3c22fb000000L + j))
+          .withOperatingStandard(i == 0 ? "n" : "ac")
+          .withAuthenticationState(true)
+          .withLastDataDownlinkRate(144_000L)
+          .withLastDataUplinkRate(72_000L)
+          .withSignalStrength(-40 - j % 40)
+          .withActive(true)
+          .withStats(new org.broadbandforum.tr181.device.wifi.accesspoint.associateddevice.Stats()
+            .withBytesSent(StatsCounter64.valueOf(1_000_000L * j))
+            .withBytesReceived(StatsCounter64.valueOf(500_000L * j))
+            .withPacketsSent(StatsCounter64.valueOf(1_000L * j))
+            .withPacketsReceived(StatsCounter64.valueOf(500L * j))
+            .withRetransCount(StatsCounter32.valueOf(j))));
+      }
+      wifi.withAccessPoint(accessPoint);
+    }
+    Hosts table = new Hosts();
+    for (int i = 0; i < hosts; i++) {
+      table.withHost(new Host()
+        .withAlias("cpe-host-" + i)
+        .withPhysAddress(String.format("00:1a:2b:%02x:%02x:%02x", (i >> 16) & 0xff, (i >> 8) & 0xff, i & 0xff))
+        .withIpaddress(new IPAddress().withValue("192.168." + (i >> 8) + "." + (i & 0xff)))
+        .withHostName("host-" + i)
+        .withActive(i % 4 != 0));
+    }
+    return new Device()
+      .withRootDataModelVersion("2.10")
+      .withWifi(wifi)
+      .withHosts(table);
+  }
+
+  /**
+   * @param hosts the number of LANDevice.1.Hosts.Host rows
+   * @return a TR-098 gateway with one WLAN, one routed WAN connection and the
+   *         given number of hosts
+   */
+  public static InternetGatewayDevice internetGatewayDevice(int hosts) {
+    org.broadbandforum.tr069.internetgatewaydevice.landevice.Hosts table = new org.broadbandforum.tr069.internetgatewaydevice.landevice.Hosts();
+    WLANConfiguration wlan = new WLANConfiguration()
+      .withEnable(true)
+      .withStatus("Up")
+      .withBssID("00:1a:2b:00:00:01")
+      .withChannel(6L)
+      .withSsiD("keybridge")
+      .withBeaconType("11i")
+      .withStandard("g")
+      .withTotalBytesSent(10_000_000L)
+      .withTotalBytesReceived(20_000_000L);
+    for (int i = 0; i < hosts; i++) {
+      MACAddress macAddress = MACAddress.valueOf(0x001a2b000000L + i);
+      table.withHost(new org.broadbandforum.tr069.internetgatewaydevice.landevice.hosts.Host()
+        .withIpaddress(new IPAddress().withValue("192.168." + (i >> 8) + "." + (i & 0xff)))
+        .withAddressSource("DHCP")
+        .withLeaseTimeRemaining(86_400 - i)
+        .withMacAddress(macAddress)
+        .withHostName("host-" + i)
+        .withInterfaceType(i % 2 == 0 ? "802.11" : "Ethernet")
+        .withActive(true));
+      if (i % 2 == 0) {
+        wlan.withAssociatedDevice(new org.broadbandforum.tr069.internetgatewaydevice.landevice.wlanconfiguration.AssociatedDevice()
+          .withAssociatedDeviceMACAddress(macAddress)
+          .withAssociatedDeviceIPAddress("192.168." + (i >> 8) + "." + (i & 0xff))
+          .withAssociatedDeviceAuthenticationState(true));
+      }
+    }
+    WANIPConnection connection = new WANIPConnection()
+      .withEnable(true)
+      .withConnectionStatus("Connected")
+      .withConnectionType("IP_Routed")
+      .withName("wan")
+      .withUptime(86_400L)
+      .withNatEnabled(true)
+      .withAddressingType("DHCP")
+      .withExternalIPAddress(new IPAddress().withValue("203.0.113.10"))
+      .withSubnetMask(new IPAddress().withValue("255.255.255.0"))
+      .withDefaultGateway("203.0.113.1")
+      .withMacAddress(MACAddress.valueOf(0x001a2bff0000L))
+      .withStats(new org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.wanipconnection.Stats()
+        .withEthernetBytesSent(100_000_000L)
+        .withEthernetBytesReceived(900_000_000L)
+        .withEthernetPacketsSent(100_000L)
+        .withEthernetPacketsReceived(700_000L));
+    for (int i = 0; i < 8; i++) {
+      connection.withPortMapping(new PortMapping()
+        .withPortMappingEnabled(true)
+        .withExternalPort(8080L + i)
+        .withInternalPort(80L)
+        .withPortMappingProtocol("TCP")
+        .withInternalClient("192.168.0." + (i + 10)));
+    }
+    return new InternetGatewayDevice()
+      .withDeviceInfo(new DeviceInfo()
+        .withManufacturer("Key Bridge")
+        .withManufacturerOUI("001A2B")
+        .withModelName("KB-1000")
+        .withProductClass("IGD")
+        .withSerialNumber("KB0001")
+        .withHardwareVersion("1.0")
+        .withSoftwareVersion("1.0.1")
+        .withSpecVersion("1.0"))
+      .withManagementServer(new ManagementServer()
+        .withUrl("https://acs.example.com/cwmp")
+        .withPeriodicInformEnable(true)
+        .withPeriodicInformInterval(3600L)
+        .withPeriodicInformTime(LocalDateTime.of(2026, 1, 1, 0, 0))
+        .withConnectionRequestURL("http://203.0.113.10:7547/"))
+      .withLANDevice(new LANDevice()
+        .withWLANConfiguration(wlan)
+        .withHosts(table))
+      .withWANDevice(new WANDevice()
+        .withWANConnectionDevice(new WANConnectionDevice()
+          .withWANIPConnection(connection)));
+  }
+
+  /**
+   * @param streams the number of AV streams, each with a player and a
+   *                monitored main stream
+   * @return a TR-135 set top box service
+   */
+  public static STBService stbService(int streams) {
+    AVStreams avStreams = new AVStreams().withActiveAVStreams((long) streams);
+    AVPlayers avPlayers = new AVPlayers()
+      .withActiveAVPlayers((long) streams)
+      .withPreferredAudioLanguage("en");
+    ServiceMonitoring monitoring = new ServiceMonitoring()
+      .withSampleEnable(true)
+      .withSampleState("Enabled")
+      .withSampleInterval(300L)
+      .withReportSamples(12L)
+      .withTimeReference(LocalDateTime.of(2026, 1, 1, 0, 0));
+    for (int i = 0; i < streams; i++) {
+      avStreams.withAVStream(new AVStream()
+        .withStatus("Enabled")
+        .withAlias(Alias.valueOf("cpe-stream-" + i))
+        .withName("stream-" + i)
+        .withPvrState("Disabled")
+        .withFrontEnd("STBService.1.Components.FrontEnd.1")
+        .withAudioDecoder("STBService.1.Components.AudioDecoder.1")
+        .withVideoDecoder("STBService.1.Components.VideoDecoder.1"));
+      avPlayers.withAVPlayer(new AVPlayer()
+        .withEnable(true)
+        .withStatus("Enabled")
+        .withAlias(Alias.valueOf("cpe-player-" + i))
+        .withName("player-" + i)
+        .withAudioLanguage("en")
+        .withMainStream("STBService.1.AVStreams.AVStream." + (i + 1)));
+      monitoring.withMainStream(new MainStream()
+        .withEnable(true)
+        .withStatus("Enabled")
+        .withAlias(Alias.valueOf("cpe-monitor-" + i))
+        .withServiceType("IPTV")
+        .withAvstream("STBService.1.AVStreams.AVStream." + (i + 1))
+        .withTotal(new Total()
+          .withTotalSeconds(86_400L)
+          .withRtpStats(new RTPStats()
+            .withPacketsExpected(10_000_000L)
+            .withPacketsReceived(9_999_000L)
+            .withPacketsLost(1_000L))
+          .withMpeG2TSStats(new MPEG2TSStats()
+            .withTspacketsReceived(70_000_000L)
+            .withTssyncLossCount(2L))));
+    }
+    return new STBService()
+      .withEnable(true)
+      .withAlias(Alias.valueOf("cpe-stb"))
+      .withAvstreams(avStreams)
+      .withAvplayers(avPlayers)
+      .withServiceMonitoring(monitoring);
+  }
+
+  /**
+   * @param cells the number of cells found by each REM scan
+   * @return a TR-196 femto access point service with a completed LTE, WCDMA
+   *         and GSM radio environment measurement scan
+   */
+  public static FAPService fapService(int cells) {
+    LocalDateTime scanTime = LocalDateTime.of(2026, 1, 1, 0, 0);
+    LTE lte = new LTE()
+      .withScanOnBoot(true)
+      .withScanStatus("Success")
+      .withLastScanTime(scanTime)
+      .withMaxCellEntries((long) cells);
+    WCDMA wcdma = new WCDMA()
+      .withScanOnBoot(true)
+      .withScanStatus("Success")
+      .withLastScanTime(scanTime)
+      .withMaxCellEntries((long) cells);
+    GSM gsm = new GSM()
+      .withScanOnBoot(true)
+      .withScanStatus("Success")
+      .withLastScanTime(scanTime)
+      .withMaxCellEntries((long) cells);
+    for (int i = 0; i < cells; i++) {
+      lte.withCell(new org.broadbandforum.tr196.fapservice.rem.lte.Cell()
+        .withRf(new org.broadbandforum.tr196.fapservice.rem.lte.cell.RF()
+          .withEutRACarrierARFCN(1300L + i % 4 * 100)
+          .withPhyCellID((long) i)
+          .withRsrP(-80 - i % 40)
+          .withRsrQ(-10 - i % 10)
+          .withRssI(-60 - i % 30))
+        .withBccH(new org.broadbandforum.tr196.fapservice.rem.lte.cell.BCCH()
+          .withDlbandwidth(100L)
+          .withUlbandwidth(100L)
+          .withRstxPower(15)
+          .withTac(1000L + i)
+          .withCellID(0x1000L + i)
+          .withCellBarred(false)
+          .withCsgIndication(false)));
+      wcdma.withCell(new org.broadbandforum.tr196.fapservice.rem.umts.wcdma.Cell()
+        .withRf(new org.broadbandforum.tr196.fapservice.rem.umts.wcdma.cell.RF()
+          .withUarFCNDL(10_700L + i % 4 * 25)
+          .withCpiCHRSCP(-90 - i % 20)
+          .withCpiCHEcNo(-10 - i % 10)
+          .withRssI(-70 - i % 30)
+          .withPrimaryScramblingCode((long) i))
+        .withBccH(new org.broadbandforum.tr196.fapservice.rem.umts.wcdma.cell.BCCH()
+          .withPlmNType("GSM-MAP")
+          .withPlmNID("310410")
+          .withLac(2000L + i)
+          .withRac(1L)
+          .withCellID(0x2000L + i)
+          .withPcpICHTxPower(30)));
+      gsm.withCell(new org.broadbandforum.tr196.fapservice.rem.umts.gsm.Cell()
+        .withBandIndicator("GSM850")
+        .withArfCN(128L + i)
+        .withBsiC((long) i % 64)
+        .withPlmNID("310410")
+        .withLac(3000L + i)
+        .withCi(0x3000L + i)
+        .withRssI(-75 - i % 30));
+    }
+    return new FAPService()
+      .withAlias(Alias.valueOf("cpe-fap"))
+      .withDeviceType("Standalone")
+      .withRem(new REM()
+        .withLte(lte)
+        .withUmtS(new UMTS()
+          .withWcdMA(wcdma)
+          .withGsm(gsm)));
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.annotation.XmlElement;
+import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.rpc.ForcedInformExtractor;
+import org.broadbandforum.tr181.Device;
+import org.broadbandforum.tr181.device.DeviceInfo;
+import org.broadbandforum.tr181.device.ManagementServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads the forcedInform parameters of a TR-181 gateway for an Inform:
+ * <ul>
+ * <li>{@code extract}: the generated field reads into a reusable buffer;</li>
+ * <li>{@code resolvePaths}: a compiled path lookup per parameter name;</li>
+ * <li>{@code scanAnnotations}: the baseline, walking the single-instance
+ * objects and checking the {@code @CWMPParameter} annotation of every
+ * field.</li>
+ * </ul>
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForcedInformBenchmark {
+
+  private Device device;
+  private ForcedInformExtractor extractor;
+  private ForcedInformExtractor.Buffer buffer;
+  private PathResolver resolver;
+  private List<String> names;
+  private Object[] values;
+
+  @Setup
+  public void setup() {
+    device = Fixtures.device(256, 64)
+      .withDeviceInfo(new DeviceInfo()
+        .withHardwareVersion("rev-b")
+        .withSoftwareVersion("1.0.21")
+        .withProvisioningCode("KB.1"))
+      .withManagementServer(new ManagementServer()
+        .withParameterKey("key-1")
+        .withConnectionRequestURL("http://192.168.0.1:7547/cr")
+        .withAliasBasedAddressing(true));
+    extractor = ForcedInformExtractor.of(Device.class);
+    buffer = extractor.newBuffer();
+    resolver = PathResolver.of(Device.class);
+    names = extractor.getNames();
+    values = new Object[names.size()];
+  }
+
+  @Benchmark
+  public ForcedInformExtractor.Buffer extract() {
+    extractor.extract(device, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public Object[] resolvePaths() {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = resolver.getValue(device, names.get(i));
+    }
+    return values;
+  }
+
+  @Benchmark
+  public List<Object> scanAnnotations() throws IllegalAccessException {
+    List<Object> parameters = new ArrayList<>();
+    scan(device, "Device.", parameters);
+    return parameters;
+  }
+
+  private static void scan(Object object, String path, List<Object> parameters) throws IllegalAccessException {
+    for (Field field : object.getClass().getFields()) {
+      if (Modifier.isStatic(field.getModifiers())) {
+        continue;
+      }
+      CWMPParameter parameter = field.getAnnotation(CWMPParameter.class);
+      if (parameter != null && parameter.forcedInform()) {
+        parameters.add(path + field.getAnnotation(XmlElement.class).name());
+        parameters.add(field.get(object));
+      } else if (field.getType().isAnnotationPresent(CWMPObject.class) && !Collection.class.isAssignableFrom(field.getType())) {
+        Object child = field.get(object);
+        if (child != null) {
+          scan(child, path + field.getAnnotation(XmlElement.class).name() + ".", parameters);
+        }
+      }
+    }
+  }
+
+}
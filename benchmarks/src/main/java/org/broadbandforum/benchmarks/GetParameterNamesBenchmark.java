@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.annotation.XmlElement;
+import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.rpc.ParameterNameWriter;
+import org.broadbandforum.tr181.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Answers a GetParameterNames request for {@code Device.} with NextLevel
+ * false on a TR-181 gateway with 256 hosts and 64 WiFi stations, about 6000
+ * names:
+ * <ul>
+ * <li>{@code write}: the ParameterList streamed to a byte buffer;</li>
+ * <li>{@code count}: the names counted, without output;</li>
+ * <li>{@code reflectiveWalk}: the baseline, collecting the names and
+ * writability from the {@code @XmlElement} and {@code @CWMPParameter}
+ * annotations of every field.</li>
+ * </ul>
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetParameterNamesBenchmark {
+
+  private Device device;
+  private ParameterNameWriter writer;
+  private ByteArrayOutputStream out;
+
+  @Setup
+  public void setup() {
+    device = Fixtures.device(256, 64);
+    writer = ParameterNameWriter.of(Device.class);
+    out = new ByteArrayOutputStream(1 << 20);
+  }
+
+  @Benchmark
+  public int write() throws IOException {
+    out.reset();
+    return writer.writeParameterList(out, device, "Device.", false);
+  }
+
+  @Benchmark
+  public int count() {
+    return writer.count(device, "Device.", false);
+  }
+
+  @Benchmark
+  public List<String> reflectiveWalk() throws IllegalAccessException {
+    List<String> names = new ArrayList<>();
+    walk(device, "Device.", names);
+    return names;
+  }
+
+  private static void walk(Object object, String path, List<String> names) throws IllegalAccessException {
+    names.add(path);
+    for (Field field : object.getClass().getFields()) {
+      XmlElement element = field.getAnnotation(XmlElement.class);
+      if (Modifier.isStatic(field.getModifiers()) || element == null) {
+        continue;
+      }
+      CWMPParameter parameter = field.getAnnotation(CWMPParameter.class);
+      boolean writable = parameter != null && "readWrite".equals(parameter.access());
+      Class<?> type = field.getType();
+      if (Collection.class.isAssignableFrom(type)) {
+        type = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+      }
+      Object value = field.get(object);
+      if (!type.isAnnotationPresent(CWMPObject.class)) {
+        names.add(path + element.name() + (writable ? " 1" : " 0"));
+      } else if (value instanceof Collection) {
+        String table = path + element.name() + ".";
+        names.add(table);
+        int instance = 0;
+        for (Object row : (Collection<?>) value) {
+          walk(row, table + ++instance + ".", names);
+        }
+      } else if (value != null) {
+        walk(value, path + element.name() + ".", names);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.common.CompactIPAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses and formats IPv4 and IPv6 address literals with
+ * {@link CompactIPAddress} and with {@link InetAddress}.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IPAddressBenchmark {
+
+  private static final String[] ADDRESSES = {
+    "192.168.1.254",
+    "10.0.0.1",
+    "2001:db8::8:800:200c:417a",
+    "fe80::21a:2bff:fe00:1",
+    "::ffff:129.144.52.38"
+  };
+
+  @Benchmark
+  public void compact(Blackhole blackhole) {
+    for (String address : ADDRESSES) {
+      blackhole.consume(CompactIPAddress.parse(address).toString());
+    }
+  }
+
+  @Benchmark
+  public void inetAddress(Blackhole blackhole) throws UnknownHostException {
+    for (String address : ADDRESSES) {
+      blackhole.consume(InetAddress.getByName(address).getHostAddress());
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import org.broadbandforum.tr069.InternetGatewayDevice;
+import org.broadbandforum.tr104.VoiceService;
+import org.broadbandforum.tr135.STBService;
+import org.broadbandforum.tr181.Device;
+import org.broadbandforum.tr196.FAPService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates the JAXBContext of a data model root object.
+ * <p>
+ * Context creation introspects every class reachable from the root and
+ * dominates the first marshal call, so it is measured cold: a fresh JVM per
+ * fork and a single invocation per iteration.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class JAXBContextBenchmark {
+
+  @Param({"tr069", "tr104", "tr135", "tr181", "tr196"})
+  private String module;
+
+  private Class<?> root;
+
+  @Setup
+  public void setup() {
+    switch (module) {
+      case "tr069":
+        root = InternetGatewayDevice.class;
+        break;
+      case "tr104":
+        root = VoiceService.class;
+        break;
+      case "tr135":
+        root = STBService.class;
+        break;
+      case "tr181":
+        root = Device.class;
+        break;
+      case "tr196":
+        root = FAPService.class;
+        break;
+      default:
+        throw new IllegalArgumentException("No root object for module " + module);
+    }
+  }
+
+  @Benchmark
+  public JAXBContext newInstance() throws JAXBException {
+    return JAXBContext.newInstance(root);
+  }
+
+}
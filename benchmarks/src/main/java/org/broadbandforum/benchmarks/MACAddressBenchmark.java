@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.common.MACAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Joins 256 MAC addresses against a table of 1024 entries keyed by
+ * {@link MACAddress} and keyed by the case-normalised address text.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MACAddressBenchmark {
+
+  private final Map<MACAddress, Integer> byAddress = new HashMap<>();
+  private final Map<String, Integer> byText = new HashMap<>();
+  private MACAddress[] addresses;
+  private String[] texts;
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < 1024; i++) {
+      String text = String.format("00:1A:2B:%02X:%02X:%02X", (i >> 16) & 0xff, (i >> 8) & 0xff, i & 0xff);
+      byAddress.put(MACAddress.of(text), i);
+      byText.put(text.toLowerCase(Locale.ROOT), i);
+    }
+    addresses = new MACAddress[256];
+    texts = new String[256];
+    for (int i = 0; i < 256; i++) {
+      texts[i] = String.format("00:1a:2b:%02x:%02x:%02x", 0, (i * 4) >> 8, (i * 4) & 0xff);
+      addresses[i] = MACAddress.of(texts[i]);
+    }
+  }
+
+  @Benchmark
+  public int macAddress() {
+    int found = 0;
+    for (MACAddress address : addresses) {
+      found += byAddress.get(address);
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int text() {
+    int found = 0;
+    for (String text : texts) {
+      found += byText.get(text.toLowerCase(Locale.ROOT));
+    }
+    return found;
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import org.broadbandforum.metamodel.CWMPContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Marshals and unmarshals a representative tree of each data model root
+ * object through a JAXBContext created once per trial, creating a marshaller
+ * per call or reusing the pooled ones of {@link CWMPContext}.
+ * <p>
+ * Run with {@code -prof gc} to report the allocation rate per operation.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarshalBenchmark {
+
+  /**
+   * tr069: InternetGatewayDevice with 64 hosts; tr135: STBService with 8
+   * monitored streams; tr181: Device with 256 hosts and 64 WiFi stations;
+   * tr196: FAPService with a 32 cell LTE, WCDMA and GSM REM scan.
+   */
+  @Param({"tr069", "tr135", "tr181", "tr196"})
+  private String module;
+
+  private Object tree;
+  private JAXBContext context;
+  private CWMPContext<Object> pooled;
+  private ByteArrayOutputStream buffer;
+  private byte[] xml;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() throws JAXBException {
+    tree = Fixtures.tree(module);
+    context = JAXBContext.newInstance(tree.getClass());
+    pooled = CWMPContext.of((Class<Object>) tree.getClass());
+    buffer = new ByteArrayOutputStream(1 << 16);
+    context.createMarshaller().marshal(tree, buffer);
+    xml = buffer.toByteArray();
+  }
+
+  @Benchmark
+  public int marshal() throws JAXBException {
+    buffer.reset();
+    Marshaller marshaller = context.createMarshaller();
+    marshaller.marshal(tree, buffer);
+    return buffer.size();
+  }
+
+  @Benchmark
+  public Object unmarshal() throws JAXBException {
+    Unmarshaller unmarshaller = context.createUnmarshaller();
+    return unmarshaller.unmarshal(new ByteArrayInputStream(xml));
+  }
+
+  @Benchmark
+  public int marshalPooled() throws JAXBException {
+    buffer.reset();
+    pooled.marshal(tree, buffer);
+    return buffer.size();
+  }
+
+  @Benchmark
+  public Object unmarshalPooled() throws JAXBException {
+    return pooled.unmarshal(new ByteArrayInputStream(xml));
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.diff.ChangeSet;
+import org.broadbandforum.diff.TreeDiffer;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.notification.ChangeTracker;
+import org.broadbandforum.notification.ValueChange;
+import org.broadbandforum.snapshot.SnapshotCodec;
+import org.broadbandforum.tr181.Device;
+import org.broadbandforum.tr181.device.DeviceInfo;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.broadbandforum.tr181.device.wifi.accesspoint.associateddevice.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds the three parameters changed on a TR-181 gateway with 256 hosts and
+ * 64 WiFi stations since the last Inform: through the setters of a tracked
+ * tree, and by comparing the tree with a copy of its last reported state.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationBenchmark {
+
+  private ChangeTracker tracker;
+  private TreeDiffer differ;
+  private Device device;
+  private Device reported;
+  private DeviceInfo deviceInfo;
+  private Host host;
+  private Stats stats;
+  private long counter;
+
+  @Setup
+  public void setup() {
+    device = Fixtures.device(256, 64);
+    device.withDeviceInfo(new DeviceInfo().withSoftwareVersion("1.0"));
+    SnapshotCodec<Device> codec = SnapshotCodec.of(Device.class);
+    reported = codec.decode(codec.encode(device));
+    tracker = new ChangeTracker(Device.class);
+    tracker.track(device);
+    tracker.setNotification("Device.Hosts.Host.20.Active", ChangeTracker.PASSIVE);
+    tracker.setNotification("Device.WiFi.AccessPoint.1.AssociatedDevice.3.Stats.BytesSent", ChangeTracker.PASSIVE);
+    differ = TreeDiffer.of(Device.class);
+    PathResolver resolver = PathResolver.of(Device.class);
+    deviceInfo = device.getDeviceInfo();
+    host = (Host) resolver.getObject(device, "Device.Hosts.Host.20.");
+    stats = (Stats) resolver.getObject(device, "Device.WiFi.AccessPoint.1.AssociatedDevice.3.Stats.");
+  }
+
+  private void change() {
+    counter++;
+    deviceInfo.setSoftwareVersion((counter & 1) == 0 ? "1.0" : "1.1");
+    host.setActive((counter & 1) == 0);
+    stats.setBytesSent(StatsCounter64.valueOf(counter));
+  }
+
+  @Benchmark
+  public List<ValueChange> collect() {
+    change();
+    return tracker.collect();
+  }
+
+  @Benchmark
+  public ChangeSet diff() {
+    change();
+    return differ.diff(reported, device);
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.analysis.BinStatistics;
+import org.broadbandforum.metamodel.Values;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads the 512 per sub-carrier group SNR values of one DSL line, e.g.
+ * {@code Device.DSL.Line.1.TestParams.SNRpsds}:
+ * <ul>
+ * <li>{@code parseList}: the baseline, one String per item as held by the
+ * entity, then parsed to int;</li>
+ * <li>{@code parseInts}: parsed into a reused int array;</li>
+ * <li>{@code accumulate}: parsed and added to fleet-wide per-bin
+ * statistics.</li>
+ * </ul>
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberListBenchmark {
+
+  private static final int BINS = 512;
+
+  private String text;
+  private int[] buffer;
+  private BinStatistics statistics;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(1);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < BINS; i++) {
+      sb.append(i == 0 ? "" : ",").append(random.nextInt(256));
+    }
+    text = sb.toString();
+    buffer = new int[BINS];
+    statistics = new BinStatistics(BINS, 255);
+  }
+
+  @Benchmark
+  public int parseList() {
+    List<Object> items = Values.parseList(text, String.class);
+    int total = 0;
+    for (Object item : items) {
+      total += Integer.parseInt((String) item);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public int parseInts() {
+    return Values.parseInts(text, buffer);
+  }
+
+  @Benchmark
+  public BinStatistics accumulate() {
+    statistics.add(text);
+    return statistics;
+  }
+
+}
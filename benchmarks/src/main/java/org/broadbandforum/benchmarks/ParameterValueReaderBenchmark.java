@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.broadbandforum.rpc.ParameterValueReader;
+import org.broadbandforum.rpc.ParameterValueWriter;
+import org.broadbandforum.tr181.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/**
+ * Reads the full {@code Device.} tree of a TR-181 gateway with 256 hosts and
+ * 64 WiFi stations from a ParameterValueStruct list, into a new tree and into
+ * an already populated one. {@code parseDom} only builds the DOM of the same
+ * document, as a baseline.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterValueReaderBenchmark {
+
+  private byte[] document;
+  private ParameterValueReader reader;
+  private Device populated;
+  private DocumentBuilder documentBuilder;
+
+  @Setup
+  public void setup() throws Exception {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+    ParameterValueWriter.of(Device.class).writeParameterList(buffer, Fixtures.device(256, 64), "Device.");
+    document = buffer.toByteArray();
+    reader = ParameterValueReader.of(Device.class);
+    populated = new Device();
+    reader.read(new ByteArrayInputStream(document), populated);
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    documentBuilder = factory.newDocumentBuilder();
+  }
+
+  @Benchmark
+  public Device read() throws IOException {
+    Device device = new Device();
+    reader.read(new ByteArrayInputStream(document), device);
+    return device;
+  }
+
+  @Benchmark
+  public int readExisting() throws IOException {
+    return reader.read(new ByteArrayInputStream(document), populated);
+  }
+
+  @Benchmark
+  public Document parseDom() throws Exception {
+    return documentBuilder.parse(new ByteArrayInputStream(document));
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.broadbandforum.rpc.ParameterValueWriter;
+import org.broadbandforum.tr181.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes the full {@code Device.} tree of a TR-181 gateway with 256 hosts and
+ * 64 WiFi stations as a ParameterValueStruct list.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterValueWriterBenchmark {
+
+  private Device device;
+  private ParameterValueWriter writer;
+  private ByteArrayOutputStream buffer;
+  private XMLOutputFactory outputFactory;
+
+  @Setup
+  public void setup() {
+    device = Fixtures.device(256, 64);
+    writer = ParameterValueWriter.of(Device.class);
+    buffer = new ByteArrayOutputStream(1 << 20);
+    outputFactory = XMLOutputFactory.newInstance();
+  }
+
+  @Benchmark
+  public int count() {
+    return writer.count(device, "Device.");
+  }
+
+  @Benchmark
+  public int write() throws IOException {
+    buffer.reset();
+    writer.writeParameterList(buffer, device, "Device.");
+    return buffer.size();
+  }
+
+  @Benchmark
+  public int writeStax() throws XMLStreamException {
+    buffer.reset();
+    XMLStreamWriter stream = outputFactory.createXMLStreamWriter(buffer, "UTF-8");
+    stream.setPrefix("xsi", "http://www.w3.org/2001/XMLSchema-instance");
+    stream.writeStartElement("ParameterList");
+    stream.writeNamespace("xsi", "http://www.w3.org/2001/XMLSchema-instance");
+    writer.write(stream, device, "Device.");
+    stream.writeEndElement();
+    stream.flush();
+    return buffer.size();
+  }
+
+}
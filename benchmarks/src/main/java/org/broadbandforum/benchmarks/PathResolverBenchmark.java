@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.tr181.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Resolves a set of GetParameterValues paths against a TR-181 gateway with
+ * the compiled {@link PathResolver} and with a reflective field walk, and
+ * with hosts addressed by alias.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathResolverBenchmark {
+
+  private static final String[] PATHS = {
+    "Device.RootDataModelVersion",
+    "Device.WiFi.Radio.1.Channel",
+    "Device.WiFi.Radio.2.Stats.BytesSent",
+    "Device.WiFi.Radio.2.Stats.PacketsReceived",
+    "Device.Hosts.Host.1.PhysAddress",
+    "Device.Hosts.Host.128.HostName",
+    "Device.Hosts.Host.256.Active"
+  };
+
+  private static final String[] ALIAS_PATHS = {
+    "Device.RootDataModelVersion",
+    "Device.WiFi.Radio.1.Channel",
+    "Device.WiFi.Radio.2.Stats.BytesSent",
+    "Device.WiFi.Radio.2.Stats.PacketsReceived",
+    "Device.Hosts.Host.[cpe-host-0].PhysAddress",
+    "Device.Hosts.Host.[cpe-host-127].HostName",
+    "Device.Hosts.Host.[cpe-host-255].Active"
+  };
+
+  private Device device;
+  private PathResolver resolver;
+
+  @Setup
+  public void setup() {
+    device = Fixtures.device(256);
+    resolver = PathResolver.of(Device.class);
+  }
+
+  @Benchmark
+  public void compiled(Blackhole blackhole) {
+    for (String path : PATHS) {
+      blackhole.consume(resolver.getValue(device, path));
+    }
+  }
+
+  @Benchmark
+  public void aliased(Blackhole blackhole) {
+    for (String path : ALIAS_PATHS) {
+      blackhole.consume(resolver.getValue(device, path));
+    }
+  }
+
+  @Benchmark
+  public void reflective(Blackhole blackhole) throws IllegalAccessException {
+    for (String path : PATHS) {
+      blackhole.consume(ReflectivePathWalker.getValue(device, path));
+    }
+  }
+
+}
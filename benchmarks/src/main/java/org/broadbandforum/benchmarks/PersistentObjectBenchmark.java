@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.persistent.PersistentObject;
+import org.broadbandforum.snapshot.SnapshotCodec;
+import org.broadbandforum.tr181.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Derives a new version of a TR-181 gateway with 256 hosts and 64 WiFi
+ * stations differing in one host name:
+ * <ul>
+ * <li>{@code with}: a path copying update of the persistent tree;</li>
+ * <li>{@code copyAndSet}: the baseline, a deep copy of the mutable tree
+ * through the snapshot codec followed by an update of the copy.</li>
+ * </ul>
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentObjectBenchmark {
+
+  private static final String PATH = "Device.Hosts.Host.20.HostName";
+
+  private PathResolver resolver;
+  private SnapshotCodec<Device> codec;
+  private Device device;
+  private PersistentObject version;
+
+  @Setup
+  public void setup() {
+    resolver = PathResolver.of(Device.class);
+    codec = SnapshotCodec.of(Device.class);
+    device = Fixtures.device(256, 64);
+    version = PersistentObject.of(device);
+  }
+
+  @Benchmark
+  public PersistentObject with() {
+    return version.with(PATH, "renamed");
+  }
+
+  @Benchmark
+  public Device copyAndSet() {
+    Device copy = codec.decode(codec.encode(device));
+    resolver.setValue(copy, PATH, "renamed");
+    return copy;
+  }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.snapshot.SnapshotCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the allocation of a read-only traversal of a full entity tree, once
+ * through the lazily initializing {@code getX()} collection accessors and
+ * once through the non-mutating {@code viewX()} read accessors.
+ * <p>
+ * Every invocation decodes a fresh tree from a snapshot, since the accessors
+ * only allocate on the first read. Subtract the {@code decode} baseline from
+ * the {@code gc.alloc.rate.norm} of the traversals to get the bytes allocated
+ * by the reads alone.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadPathBenchmark {
+
+  private static final ClassValue<Accessors> GETTERS = new ClassValue<Accessors>() {
+    @Override
+    protected Accessors computeValue(Class<?> type) {
+      return new Accessors(type, "get");
+    }
+  };
+
+  private static final ClassValue<Accessors> VIEWS = new ClassValue<Accessors>() {
+    @Override
+    protected Accessors computeValue(Class<?> type) {
+      return new Accessors(type, "view");
+    }
+  };
+
+  @Param({"tr069", "tr135", "tr181", "tr196"})
+  private String module;
+
+  private SnapshotCodec<Object> codec;
+  private byte[] snapshot;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    Object tree = Fixtures.tree(module);
+    codec = SnapshotCodec.of((Class<Object>) tree.getClass());
+    snapshot = codec.encode(tree);
+  }
+
+  @Benchmark
+  public Object decode() {
+    return codec.decode(snapshot);
+  }
+
+  @Benchmark
+  public Object traverseGetters() throws Throwable {
+    Object tree = codec.decode(snapshot);
+    traverse(tree, GETTERS);
+    return tree;
+  }
+
+  @Benchmark
+  public Object traverseViews() throws Throwable {
+    Object tree = codec.decode(snapshot);
+    traverse(tree, VIEWS);
+    return tree;
+  }
+
+  /**
+   * Read every collection of the object through the given accessors and
+   * descend into the table rows and child objects.
+   */
+  static void traverse(Object object, ClassValue<Accessors> accessors) throws Throwable {
+    Accessors type = accessors.get(object.getClass());
+    for (MethodHandle collection : type.collections) {
+      for (Object element : (Collection<?>) collection.invokeExact(object)) {
+        if (element != null && element.getClass().isAnnotationPresent(CWMPObject.class)) {
+          traverse(element, accessors);
+        }
+      }
+    }
+    for (ChildDescriptor child : type.children) {
+      Object value = type.descriptor.getObject(object, child.getOrdinal());
+      if (value != null) {
+        traverse(value, accessors);
+      }
+    }
+  }
+
+  /**
+   * The collection accessors with the given prefix and the single child
+   * objects of an entity class.
+   */
+  static final class Accessors {
+
+    private static final MethodType ACCESSOR = MethodType.methodType(Collection.class, Object.class);
+
+    final ObjectDescriptor<?> descriptor;
+    final MethodHandle[] collections;
+    final ChildDescriptor[] children;
+
+    Accessors(Class<?> type, String prefix) {
+      this.descriptor = Metamodel.describe(type);
+      List<MethodHandle> handles = new ArrayList<>();
+      try {
+        for (Method method : type.getMethods()) {
+          if (method.getName().startsWith("view") && method.getParameterCount() == 0
+              && !Modifier.isStatic(method.getModifiers())) {
+            Method accessor = type.getMethod(prefix + method.getName().substring(4));
+            handles.add(MethodHandles.publicLookup().unreflect(accessor).asType(ACCESSOR));
+          }
+        }
+      } catch (ReflectiveOperationException exception) {
+        throw new IllegalStateException(exception);
+      }
+      this.collections = handles.toArray(new MethodHandle[0]);
+      List<ChildDescriptor> objects = new ArrayList<>();
+      for (ChildDescriptor child : descriptor.getChildren()) {
+        if (!child.isTable()) {
+          objects.add(child);
+        }
+      }
+      this.children = objects.toArray(new ChildDescriptor[0]);
+    }
+
+  }
+
+}
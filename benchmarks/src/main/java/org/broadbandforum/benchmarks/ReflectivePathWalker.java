@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Iterator;
+import javax.xml.bind.annotation.XmlElement;
+
+/**
+ * The reflective, segment by segment path walk used as the benchmark
+ * baseline: every segment is matched against the {@code @XmlElement} names of
+ * the fields of the current class.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+final class ReflectivePathWalker {
+
+  private ReflectivePathWalker() {
+  }
+
+  static Object getValue(Object root, String path) throws IllegalAccessException {
+    String[] segments = path.split("\\.");
+    Object current = root;
+    for (int i = 1; i < segments.length && current != null; i++) {
+      Field field = field(current.getClass(), segments[i]);
+      if (field == null) {
+        throw new IllegalArgumentException("Invalid parameter name " + path);
+      }
+      current = field.get(current);
+      if (current instanceof Collection && i + 1 < segments.length) {
+        int instance = Integer.parseInt(segments[++i]);
+        Iterator<?> iterator = ((Collection<?>) current).iterator();
+        current = null;
+        for (int n = 1; iterator.hasNext(); n++) {
+          Object row = iterator.next();
+          if (n == instance) {
+            current = row;
+            break;
+          }
+        }
+      }
+    }
+    return current;
+  }
+
+  private static Field field(Class<?> type, String name) {
+    for (Field field : type.getFields()) {
+      XmlElement element = field.getAnnotation(XmlElement.class);
+      if (element != null && element.name().equals(name)) {
+        return field;
+      }
+    }
+    return null;
+  }
+
+}
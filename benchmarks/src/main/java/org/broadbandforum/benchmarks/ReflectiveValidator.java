@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.validation.constraints.Size;
+import org.broadbandforum.annotation.CWMPObject;
+
+/**
+ * The reflective validation used as the benchmark baseline: every pass reads
+ * the {@code @Size} and {@code @Pattern} annotations of every field and
+ * compiles each pattern it applies, as a generic Bean Validation provider
+ * does without a pattern cache.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+final class ReflectiveValidator {
+
+  private ReflectiveValidator() {
+  }
+
+  static List<String> validate(Object object) throws IllegalAccessException {
+    List<String> violations = new ArrayList<>();
+    validate(object, violations);
+    return violations;
+  }
+
+  private static void validate(Object object, List<String> violations) throws IllegalAccessException {
+    for (Field field : object.getClass().getFields()) {
+      Object value = field.get(object);
+      if (value == null) {
+        continue;
+      }
+      Size size = field.getAnnotation(Size.class);
+      javax.validation.constraints.Pattern pattern = field.getAnnotation(javax.validation.constraints.Pattern.class);
+      if (value instanceof String) {
+        String text = (String) value;
+        if (size != null && (text.length() < size.min() || text.length() > size.max())) {
+          violations.add(field.getName());
+        }
+        if (pattern != null && !Pattern.compile(pattern.regexp()).matcher(text).matches()) {
+          violations.add(field.getName());
+        }
+      } else if (value instanceof Number) {
+        long number = ((Number) value).longValue();
+        if (size != null && (number < size.min() || size.max() >= size.min() && number > size.max())) {
+          violations.add(field.getName());
+        }
+      } else if (value instanceof Collection) {
+        for (Object item : (Collection<?>) value) {
+          if (item != null && item.getClass().isAnnotationPresent(CWMPObject.class)) {
+            validate(item, violations);
+          }
+        }
+      } else if (value.getClass().isAnnotationPresent(CWMPObject.class)) {
+        validate(value, violations);
+      }
+    }
+  }
+
+}
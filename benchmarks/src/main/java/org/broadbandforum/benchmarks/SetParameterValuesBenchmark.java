@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.rpc.ParameterFault;
+import org.broadbandforum.rpc.ParameterValueReader;
+import org.broadbandforum.rpc.ParameterValueSetter;
+import org.broadbandforum.tr181.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applies a typical reprovisioning SetParameterValues batch to a TR-181
+ * gateway: through the checked, all or nothing setter, and by setting each
+ * value then validating the whole tree reflectively.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetParameterValuesBenchmark {
+
+  private Device device;
+  private Map<String, String> values;
+  private ParameterValueSetter setter;
+  private ParameterValueReader reader;
+
+  @Setup
+  public void setup() {
+    device = Fixtures.device(256, 64);
+    setter = ParameterValueSetter.of(Device.class);
+    reader = ParameterValueReader.of(Device.class);
+    values = new LinkedHashMap<>();
+    values.put("Device.ManagementServer.URL", "https://acs.example.com/cwmp");
+    values.put("Device.ManagementServer.PeriodicInformEnable", "true");
+    values.put("Device.ManagementServer.PeriodicInformInterval", "3600");
+    values.put("Device.WiFi.Radio.1.Channel", "11");
+    values.put("Device.WiFi.Radio.2.Channel", "44");
+    values.put("Device.WiFi.SSID.1.SSID", "keybridge");
+    values.put("Device.WiFi.SSID.[cpe-ssid-1].SSID", "keybridge-5g");
+    values.put("Device.WiFi.AccessPoint.1.Enable", "true");
+    values.put("Device.Hosts.Host.1.Alias", "cpe-host-0");
+  }
+
+  @Benchmark
+  public List<ParameterFault> setter() {
+    return setter.apply(device, values);
+  }
+
+  @Benchmark
+  public List<String> applyThenValidateTree() throws IllegalAccessException {
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      reader.apply(device, entry.getKey(), entry.getValue());
+    }
+    return ReflectiveValidator.validate(device);
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBException;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.diff.ChangeSet;
+import org.broadbandforum.diff.TreeDiffer;
+import org.broadbandforum.metamodel.CWMPContext;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.snapshot.SnapshotCodec;
+import org.broadbandforum.tr181.Device;
+import org.broadbandforum.tr181.device.DeviceInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares two states of a TR-181 gateway with 256 hosts and 64 WiFi
+ * stations differing in three parameters:
+ * <ul>
+ * <li>{@code diff}: two separately built trees, e.g. decoded snapshots;</li>
+ * <li>{@code diffShared}: a second tree sharing every subtree but
+ * {@code Device.DeviceInfo.} with the first;</li>
+ * <li>{@code compareXml}: the baseline, marshalling both trees and comparing
+ * the XML.</li>
+ * </ul>
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeDifferBenchmark {
+
+  private TreeDiffer differ;
+  private CWMPContext<Device> context;
+  private Device before;
+  private Device after;
+  private Device shared;
+  private ByteArrayOutputStream first;
+  private ByteArrayOutputStream second;
+
+  @Setup
+  public void setup() {
+    differ = TreeDiffer.of(Device.class);
+    context = CWMPContext.of(Device.class);
+    before = Fixtures.device(256, 64);
+    SnapshotCodec<Device> codec = SnapshotCodec.of(Device.class);
+    after = codec.decode(codec.encode(before));
+    PathResolver resolver = PathResolver.of(Device.class);
+    resolver.setValue(after, "Device.DeviceInfo.SoftwareVersion", "9.9");
+    resolver.setValue(after, "Device.Hosts.Host.20.Active", Boolean.FALSE);
+    resolver.setValue(after, "Device.WiFi.AccessPoint.1.AssociatedDevice.3.Stats.BytesSent", StatsCounter64.valueOf(12345));
+    // A shallow copy of the root, with its own DeviceInfo.
+    ObjectDescriptor<Device> root = resolver.getMetamodel().getObject(Device.class);
+    shared = root.newInstance();
+    for (int i = 0; i < root.getChildren().size(); i++) {
+      root.setObject(shared, i, root.getObject(before, i));
+    }
+    shared.deviceInfo = new DeviceInfo();
+    shared.deviceInfo.softwareVersion = "9.9";
+    first = new ByteArrayOutputStream(1 << 17);
+    second = new ByteArrayOutputStream(1 << 17);
+  }
+
+  @Benchmark
+  public ChangeSet diff() {
+    return differ.diff(before, after);
+  }
+
+  @Benchmark
+  public ChangeSet diffShared() {
+    return differ.diff(before, shared);
+  }
+
+  @Benchmark
+  public boolean compareXml() throws JAXBException {
+    first.reset();
+    second.reset();
+    context.marshal(before, first);
+    context.marshal(after, second);
+    return Arrays.equals(first.toByteArray(), second.toByteArray());
+  }
+
+}
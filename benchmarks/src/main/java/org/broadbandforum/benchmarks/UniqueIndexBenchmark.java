@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up Device.Hosts.Host rows by their unique PhysAddress through the
+ * table's unique index and with a linear scan.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueIndexBenchmark {
+
+  @Param({"64", "1024"})
+  private int hosts;
+
+  private InstanceTable<Host> table;
+  private String physAddress;
+
+  @Setup
+  public void setup() {
+    Collection<Host> rows = Fixtures.device(hosts).getHosts().getHosts();
+    table = (InstanceTable<Host>) rows;
+    physAddress = table.get(hosts - 1).getPhysAddress();
+    if (table.byUnique("PhysAddress", physAddress) != table.get(hosts - 1) || table.getViolationCount() != 0) {
+      throw new IllegalStateException("Unique index mismatch");
+    }
+  }
+
+  @Benchmark
+  public Host indexed() {
+    return table.byUnique("PhysAddress", physAddress);
+  }
+
+  @Benchmark
+  public Host scan() {
+    for (Host host : table) {
+      if (physAddress.equals(host.getPhysAddress())) {
+        return host;
+      }
+    }
+    return null;
+  }
+
+}
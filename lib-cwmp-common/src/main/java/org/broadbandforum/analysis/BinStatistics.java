@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.analysis;
+
+import java.util.Arrays;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * Per-bin statistics over many integer arrays of the same shape, e.g. the
+ * per sub-carrier group SNR, QLN or HLOG values of
+ * {@code Device.DSL.Line.{i}.TestParams.} across a fleet of lines.
+ * <p>
+ * For every bin the count, minimum, maximum and sum of the values are kept,
+ * and a histogram over the value range {@code [0, maxValue]} from which
+ * percentiles are read exactly. Values outside the range count fully towards
+ * the minimum, maximum and mean and are clamped to the nearest end of the
+ * histogram.
+ * <p>
+ * The accumulators are arrays indexed by bin, updated by one pass per array
+ * over the values. The minimum, maximum and sum pass is a plain loop that the
+ * JIT compiler vectorizes. An array shorter than the number of bins only
+ * contributes to its leading bins; values beyond the last bin are ignored.
+ * <p>
+ * Instances are not thread safe. Accumulate one instance per thread and
+ * combine them with {@link #addAll(BinStatistics)}.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class BinStatistics {
+
+  private final int bins;
+  private final int maxValue;
+  private final int[] count;
+  private final int[] min;
+  private final int[] max;
+  private final long[] sum;
+  /**
+   * The value counts of bin {@code b} at {@code b * (maxValue + 1)}.
+   */
+  private final int[] histogram;
+  /**
+   * The parse buffer of {@link #add(CharSequence)}.
+   */
+  private final int[] buffer;
+  private long arrays;
+
+  /**
+   * @param bins     the number of bins, e.g. 512 sub-carrier groups
+   * @param maxValue the largest value of the histogram, e.g. 255 for SNR
+   * @throws IllegalArgumentException if the histogram would exceed
+   *                                  {@code Integer.MAX_VALUE} counters
+   */
+  public BinStatistics(int bins, int maxValue) {
+    if (bins < 1 || maxValue < 0 || (long) bins * (maxValue + 1L) > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid histogram of " + bins + " bins up to " + maxValue);
+    }
+    this.bins = bins;
+    this.maxValue = maxValue;
+    this.count = new int[bins];
+    this.min = new int[bins];
+    this.max = new int[bins];
+    this.sum = new long[bins];
+    this.histogram = new int[bins * (maxValue + 1)];
+    this.buffer = new int[bins];
+    Arrays.fill(min, Integer.MAX_VALUE);
+    Arrays.fill(max, Integer.MIN_VALUE);
+  }
+
+  /**
+   * @param values the values of one array, e.g. one line
+   */
+  public void add(int[] values) {
+    add(values, values.length);
+  }
+
+  /**
+   * @param values the values of one array
+   * @param length the number of values to read
+   */
+  public void add(int[] values, int length) {
+    int n = Math.min(length, bins);
+    for (int i = 0; i < n; i++) {
+      int value = values[i];
+      count[i]++;
+      min[i] = Math.min(min[i], value);
+      max[i] = Math.max(max[i], value);
+      sum[i] += value;
+    }
+    int width = maxValue + 1;
+    for (int i = 0, offset = 0; i < n; i++, offset += width) {
+      histogram[offset + Math.min(Math.max(values[i], 0), maxValue)]++;
+    }
+    arrays++;
+  }
+
+  /**
+   * @param values the values of one array
+   * @param length the number of values to read
+   */
+  public void add(short[] values, int length) {
+    int n = Math.min(length, bins);
+    for (int i = 0; i < n; i++) {
+      buffer[i] = values[i];
+    }
+    add(buffer, n);
+  }
+
+  /**
+   * Add one comma-separated list, parsed without creating a String per item.
+   *
+   * @param list the list text, e.g. the value of {@code SNRpsus}
+   * @throws IllegalArgumentException if an item is not an int
+   */
+  public void add(CharSequence list) {
+    add(buffer, Math.min(Values.parseInts(list, buffer), bins));
+  }
+
+  /**
+   * Add the statistics of another instance, e.g. of another thread.
+   *
+   * @param other statistics of the same number of bins and value range
+   * @throws IllegalArgumentException if the shapes differ
+   */
+  public void addAll(BinStatistics other) {
+    if (other.bins != bins || other.maxValue != maxValue) {
+      throw new IllegalArgumentException("Cannot combine " + other + " into " + this);
+    }
+    for (int i = 0; i < bins; i++) {
+      count[i] += other.count[i];
+      min[i] = Math.min(min[i], other.min[i]);
+      max[i] = Math.max(max[i], other.max[i]);
+      sum[i] += other.sum[i];
+    }
+    for (int i = 0; i < histogram.length; i++) {
+      histogram[i] += other.histogram[i];
+    }
+    arrays += other.arrays;
+  }
+
+  public int getBins() {
+    return bins;
+  }
+
+  public int getMaxValue() {
+    return maxValue;
+  }
+
+  /**
+   * @return the number of arrays added
+   */
+  public long getArrays() {
+    return arrays;
+  }
+
+  /**
+   * @param bin the bin index
+   * @return the number of values in the bin
+   */
+  public int getCount(int bin) {
+    return count[bin];
+  }
+
+  /**
+   * @param bin the bin index
+   * @return the smallest value, {@code Integer.MAX_VALUE} if the bin is empty
+   */
+  public int getMin(int bin) {
+    return min[bin];
+  }
+
+  /**
+   * @param bin the bin index
+   * @return the largest value, {@code Integer.MIN_VALUE} if the bin is empty
+   */
+  public int getMax(int bin) {
+    return max[bin];
+  }
+
+  /**
+   * @param bin the bin index
+   * @return the mean value, NaN if the bin is empty
+   */
+  public double getMean(int bin) {
+    return count[bin] == 0 ? Double.NaN : (double) sum[bin] / count[bin];
+  }
+
+  /**
+   * Get a percentile by the nearest-rank method, clamped to the histogram
+   * range.
+   *
+   * @param bin        the bin index
+   * @param percentile the percentile, from 0 to 100
+   * @return the smallest value such that at least the given percentage of
+   *         the values of the bin are less or equal, -1 if the bin is empty
+   * @throws IllegalArgumentException if the percentile is out of range
+   */
+  public int getPercentile(int bin, double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Invalid percentile " + percentile);
+    }
+    if (count[bin] == 0) {
+      return -1;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count[bin]));
+    int offset = bin * (maxValue + 1);
+    long seen = 0;
+    for (int value = 0; value < maxValue; value++) {
+      seen += histogram[offset + value];
+      if (seen >= rank) {
+        return value;
+      }
+    }
+    return maxValue;
+  }
+
+  @Override
+  public String toString() {
+    return "BinStatistics[" + bins + " bins, 0.." + maxValue + ", " + arrays + " arrays]";
+  }
+
+}
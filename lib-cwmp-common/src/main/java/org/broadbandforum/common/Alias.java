@@ -15,6 +15,9 @@
  */
 package org.broadbandforum.common;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -40,6 +43,12 @@ If the CPE supports the Alias-based Addressing feature as defined in {{bibref|TR
 @XmlAccessorType(XmlAccessType.FIELD)
 public class Alias {
 
+	/**
+	 * Interned alias text, weakly referenced so that unused aliases are
+	 * collected.
+	 */
+	private static final Map<String, WeakReference<String>> INTERNED = new WeakHashMap<>();
+
 	@Size(max = 64)
 	@XmlValue
 	public String value;
@@ -47,6 +56,29 @@ public class Alias {
 	public Alias() {
 	}
 
+	/**
+	 * Get an alias with interned text. The text is shared by all aliases of
+	 * the same value, so that the alias index keys of many tables hold one
+	 * string; each call returns a new instance, which may be modified.
+	 *
+	 * @param value the alias value
+	 * @return a new alias, null if the value is null
+	 */
+	public static Alias valueOf(String value) {
+		if (value == null) {
+			return null;
+		}
+		synchronized (INTERNED) {
+			WeakReference<String> reference = INTERNED.get(value);
+			String text = reference == null ? null : reference.get();
+			if (text == null) {
+				text = value;
+				INTERNED.put(text, new WeakReference<>(text));
+			}
+			return new Alias().withValue(text);
+		}
+	}
+
 	//<editor-fold defaultstate="collapsed" desc="Getter and Setter">
 	/**
 	 *
@@ -76,4 +108,26 @@ public class Alias {
 
 	//</editor-fold>
 
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Alias)) {
+			return false;
+		}
+		String other = ((Alias) obj).value;
+		return value == null ? other == null : value.equals(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return value == null ? 0 : value.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return value;
+	}
+
 }
\ No newline at end of file
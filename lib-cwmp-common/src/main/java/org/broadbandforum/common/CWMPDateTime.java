@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * The CWMP dateTime data type, e.g. {@code 2018-02-20T14:52:26Z}, held in a
+ * {@link LocalDateTime} in UTC.
+ * <p>
+ * Provides the shared "Unknown Time" and infinite time values, and a parser
+ * and formatter for the XML text representation. Use
+ * {@code DateTimeAdapter} to bind a {@code LocalDateTime} field.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class CWMPDateTime {
+
+  /**
+   * The Unknown Time, 0001-01-01T00:00:00Z, for a time that is not known.
+   */
+  public static final LocalDateTime UNKNOWN_TIME = LocalDateTime.of(1, 1, 1, 0, 0, 0);
+  /**
+   * The infinite time, 9999-12-31T23:59:59Z, e.g. for an infinite lifetime.
+   */
+  public static final LocalDateTime INFINITE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+  private CWMPDateTime() {
+  }
+
+  /**
+   * @param dateTime a dateTime value, may be null
+   * @return true if the value is the Unknown Time
+   */
+  public static boolean isUnknown(LocalDateTime dateTime) {
+    return UNKNOWN_TIME.equals(dateTime);
+  }
+
+  /**
+   * @param dateTime a dateTime value, may be null
+   * @return true if the value is the infinite time
+   */
+  public static boolean isInfinite(LocalDateTime dateTime) {
+    return INFINITE_TIME.equals(dateTime);
+  }
+
+  /**
+   * Parse the text of a dateTime, {@code YYYY-MM-DDThh:mm:ss}, with optional
+   * fractional seconds and an optional {@code Z} or {@code ±hh:mm} time zone.
+   * A time with an offset is converted to UTC.
+   *
+   * @param text the text
+   * @return the dateTime, null if the text is null or empty
+   * @throws IllegalArgumentException if the text is not a valid dateTime
+   */
+  public static LocalDateTime parse(CharSequence text) {
+    if (text == null || text.length() == 0) {
+      return null;
+    }
+    int length = text.length();
+    if (length < 19 || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+        || text.charAt(13) != ':' || text.charAt(16) != ':') {
+      throw invalid(text);
+    }
+    int year = digits(text, 0, 4);
+    int month = digits(text, 5, 7);
+    int day = digits(text, 8, 10);
+    int hour = digits(text, 11, 13);
+    int minute = digits(text, 14, 16);
+    int second = digits(text, 17, 19);
+    int nano = 0;
+    int i = 19;
+    if (i < length && text.charAt(i) == '.') {
+      int start = ++i;
+      int scale = 100_000_000;
+      while (i < length && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+        nano += (text.charAt(i) - '0') * scale;
+        scale /= 10;
+        i++;
+      }
+      if (i == start || i - start > 9) {
+        throw invalid(text);
+      }
+    }
+    int offset = 0;
+    if (i < length) {
+      char zone = text.charAt(i);
+      if (zone == 'Z' && i == length - 1) {
+        i++;
+      } else if ((zone == '+' || zone == '-') && i == length - 6 && text.charAt(i + 3) == ':') {
+        offset = (digits(text, i + 1, i + 3) * 60 + digits(text, i + 4, i + 6)) * 60;
+        if (zone == '-') {
+          offset = -offset;
+        }
+        i = length;
+      } else {
+        throw invalid(text);
+      }
+    }
+    try {
+      LocalDateTime dateTime = LocalDateTime.of(year, month, day, hour, minute, second, nano);
+      return offset == 0 ? dateTime : dateTime.minusSeconds(offset);
+    } catch (DateTimeException ex) {
+      throw new IllegalArgumentException("Invalid dateTime " + text, ex);
+    }
+  }
+
+  private static int digits(CharSequence text, int start, int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        throw invalid(text);
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static IllegalArgumentException invalid(CharSequence text) {
+    return new IllegalArgumentException("Invalid dateTime " + text);
+  }
+
+  /**
+   * Format a dateTime in UTC, e.g. {@code 2018-02-20T14:52:26Z}. Fractional
+   * seconds are written without trailing zeros.
+   *
+   * @param dateTime the dateTime
+   * @return the text, null if the dateTime is null
+   */
+  public static String format(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      return null;
+    }
+    StringBuilder text = new StringBuilder(30);
+    pad(text, dateTime.getYear(), 4).append('-');
+    pad(text, dateTime.getMonthValue(), 2).append('-');
+    pad(text, dateTime.getDayOfMonth(), 2).append('T');
+    pad(text, dateTime.getHour(), 2).append(':');
+    pad(text, dateTime.getMinute(), 2).append(':');
+    pad(text, dateTime.getSecond(), 2);
+    int nano = dateTime.getNano();
+    if (nano != 0) {
+      int digits = 9;
+      while (nano % 10 == 0) {
+        nano /= 10;
+        digits--;
+      }
+      pad(text.append('.'), nano, digits);
+    }
+    return text.append('Z').toString();
+  }
+
+  private static StringBuilder pad(StringBuilder text, int value, int width) {
+    String digits = Integer.toString(value);
+    for (int i = digits.length(); i < width; i++) {
+      text.append('0');
+    }
+    return text.append(digits);
+  }
+
+}
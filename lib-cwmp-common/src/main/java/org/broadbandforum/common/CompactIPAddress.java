@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+/**
+ * A compact, immutable alternative to the String-backed {@link IPAddress}:
+ * either a {@link CompactIPv4Address} held in an {@code int} or a
+ * {@link CompactIPv6Address} held in two {@code long}s.
+ * <p>
+ * Addresses are parsed without regular expressions and always formatted in
+ * canonical form, so that equal addresses have equal text. Use
+ * {@code CompactIPAddressAdapter} to bind a field of this type to the
+ * unchanged XML wire format.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public abstract class CompactIPAddress {
+
+  CompactIPAddress() {
+  }
+
+  /**
+   * @param text an IPv4 address in dotted-decimal notation or an IPv6 address
+   *             in any RFC 4291 text representation
+   * @return the address, null if the text is null or empty
+   * @throws IllegalArgumentException if the text is not a valid IP address
+   */
+  public static CompactIPAddress parse(CharSequence text) {
+    if (text == null || text.length() == 0) {
+      return null;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) == ':') {
+        return CompactIPv6Address.parse(text);
+      }
+    }
+    return CompactIPv4Address.parse(text);
+  }
+
+  /**
+   * @param address a String-backed address, may be null
+   * @return the compact address, null if the address is null or empty
+   * @throws IllegalArgumentException if the value is not a valid IP address
+   */
+  public static CompactIPAddress of(IPAddress address) {
+    return address == null ? null : parse(address.getValue());
+  }
+
+  /**
+   * @return the address in network byte order, 4 or 16 bytes
+   */
+  public abstract byte[] toByteArray();
+
+  /**
+   * @return a new String-backed address holding the canonical text
+   */
+  public abstract IPAddress toIPAddress();
+
+  /**
+   * @return the canonical text representation
+   */
+  @Override
+  public abstract String toString();
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+/**
+ * An IPv4 address or subnet mask held in an {@code int}, formatted in
+ * dotted-decimal notation, e.g. {@code 192.168.1.254}.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class CompactIPv4Address extends CompactIPAddress {
+
+  private final int address;
+
+  private CompactIPv4Address(int address) {
+    this.address = address;
+  }
+
+  /**
+   * @param address the address bits, most significant octet first
+   * @return the address
+   */
+  public static CompactIPv4Address valueOf(int address) {
+    return new CompactIPv4Address(address);
+  }
+
+  /**
+   * @param text an IPv4 address in dotted-decimal notation
+   * @return the address, null if the text is null or empty
+   * @throws IllegalArgumentException if the text is not a valid IPv4 address
+   */
+  public static CompactIPv4Address parse(CharSequence text) {
+    if (text == null || text.length() == 0) {
+      return null;
+    }
+    return new CompactIPv4Address(parse(text, 0, text.length()));
+  }
+
+  /**
+   * @param text  the text
+   * @param start the index of the first character
+   * @param end   the index after the last character
+   * @return the address bits of the dotted-decimal address in the range
+   * @throws IllegalArgumentException if the range is not a valid IPv4 address
+   */
+  static int parse(CharSequence text, int start, int end) {
+    int address = 0;
+    int octets = 0;
+    int i = start;
+    while (i < end) {
+      int octet = 0;
+      int digits = 0;
+      char c;
+      while (i < end && (c = text.charAt(i)) >= '0' && c <= '9') {
+        octet = octet * 10 + (c - '0');
+        digits++;
+        i++;
+      }
+      if (digits == 0 || digits > 3 || octet > 255 || octets == 4) {
+        throw invalid(text);
+      }
+      address = address << 8 | octet;
+      octets++;
+      if (i < end) {
+        if (text.charAt(i) != '.' || i == end - 1) {
+          throw invalid(text);
+        }
+        i++;
+      }
+    }
+    if (octets != 4) {
+      throw invalid(text);
+    }
+    return address;
+  }
+
+  private static IllegalArgumentException invalid(CharSequence text) {
+    return new IllegalArgumentException("Invalid IPv4 address " + text);
+  }
+
+  /**
+   * @param address an IPv4 address, may be null
+   * @return the compact address, null if the address is null or empty
+   * @throws IllegalArgumentException if the value is not a valid IPv4 address
+   */
+  public static CompactIPv4Address of(IPAddress address) {
+    return address == null ? null : parse(address.getValue());
+  }
+
+  /**
+   * @return the address bits, most significant octet first
+   */
+  public int intValue() {
+    return address;
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    return new byte[]{(byte) (address >>> 24), (byte) (address >>> 16), (byte) (address >>> 8), (byte) address};
+  }
+
+  @Override
+  public IPv4Address toIPAddress() {
+    IPv4Address value = new IPv4Address();
+    value.setValue(toString());
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof CompactIPv4Address && ((CompactIPv4Address) obj).address == address;
+  }
+
+  @Override
+  public int hashCode() {
+    return address;
+  }
+
+  @Override
+  public String toString() {
+    return append(new StringBuilder(15), address).toString();
+  }
+
+  static StringBuilder append(StringBuilder text, int address) {
+    return text.append(address >>> 24).append('.')
+      .append((address >>> 16) & 0xff).append('.')
+      .append((address >>> 8) & 0xff).append('.')
+      .append(address & 0xff);
+  }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+/**
+ * An IPv6 address held in two {@code long}s.
+ * <p>
+ * Parsing accepts the three RFC 4291 text representations, e.g.
+ * {@code 1080:0:0:0:8:800:200C:417A}, {@code 1080::8:800:200C:417A} and
+ * {@code ::FFFF:129.144.52.38}; zone identifiers are rejected. Formatting
+ * follows the RFC 5952 canonical representation: lower case hexadecimal
+ * without leading zeros, the longest run of two or more zero groups
+ * compressed to {@code ::}, and IPv4-mapped addresses with a dotted-decimal
+ * tail.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class CompactIPv6Address extends CompactIPAddress {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  /**
+   * The most significant 64 bits.
+   */
+  private final long high;
+  /**
+   * The least significant 64 bits.
+   */
+  private final long low;
+
+  private CompactIPv6Address(long high, long low) {
+    this.high = high;
+    this.low = low;
+  }
+
+  /**
+   * @param high the most significant 64 bits
+   * @param low  the least significant 64 bits
+   * @return the address
+   */
+  public static CompactIPv6Address valueOf(long high, long low) {
+    return new CompactIPv6Address(high, low);
+  }
+
+  /**
+   * @param text an IPv6 address in any RFC 4291 text representation
+   * @return the address, null if the text is null or empty
+   * @throws IllegalArgumentException if the text is not a valid IPv6 address
+   */
+  public static CompactIPv6Address parse(CharSequence text) {
+    if (text == null || text.length() == 0) {
+      return null;
+    }
+    int length = text.length();
+    int[] groups = new int[8];
+    int count = 0;
+    // The group index at which "::" was found, -1 if none.
+    int compressed = -1;
+    int i = 0;
+    if (text.charAt(0) == ':') {
+      if (length < 2 || text.charAt(1) != ':') {
+        throw invalid(text);
+      }
+      compressed = 0;
+      i = 2;
+    }
+    while (i < length) {
+      int start = i;
+      int group = 0;
+      int digit;
+      while (i < length && (digit = hex(text.charAt(i))) >= 0) {
+        group = group << 4 | digit;
+        i++;
+      }
+      if (i < length && text.charAt(i) == '.') {
+        // An embedded IPv4 address takes the last two groups.
+        if (count > 6) {
+          throw invalid(text);
+        }
+        int address = CompactIPv4Address.parse(text, start, length);
+        groups[count++] = address >>> 16;
+        groups[count++] = address & 0xffff;
+        break;
+      }
+      if (i == start || i - start > 4 || count == 8) {
+        throw invalid(text);
+      }
+      groups[count++] = group;
+      if (i == length) {
+        break;
+      }
+      if (text.charAt(i) != ':' || ++i == length) {
+        throw invalid(text);
+      }
+      if (text.charAt(i) == ':') {
+        if (compressed >= 0) {
+          throw invalid(text);
+        }
+        compressed = count;
+        i++;
+      }
+    }
+    if (compressed >= 0) {
+      if (count == 8) {
+        throw invalid(text);
+      }
+      int shift = 8 - count;
+      System.arraycopy(groups, compressed, groups, compressed + shift, count - compressed);
+      for (int j = compressed; j < compressed + shift; j++) {
+        groups[j] = 0;
+      }
+    } else if (count != 8) {
+      throw invalid(text);
+    }
+    long high = 0;
+    long low = 0;
+    for (int j = 0; j < 4; j++) {
+      high = high << 16 | groups[j];
+      low = low << 16 | groups[j + 4];
+    }
+    return new CompactIPv6Address(high, low);
+  }
+
+  private static int hex(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+
+  private static IllegalArgumentException invalid(CharSequence text) {
+    return new IllegalArgumentException("Invalid IPv6 address " + text);
+  }
+
+  /**
+   * @param address an IPv6 address, may be null
+   * @return the compact address, null if the address is null or empty
+   * @throws IllegalArgumentException if the value is not a valid IPv6 address
+   */
+  public static CompactIPv6Address of(IPAddress address) {
+    return address == null ? null : parse(address.getValue());
+  }
+
+  public long getHigh() {
+    return high;
+  }
+
+  public long getLow() {
+    return low;
+  }
+
+  /**
+   * @return true if this is an IPv4-mapped address, i.e. ::ffff:0:0/96
+   */
+  public boolean isIPv4Mapped() {
+    return high == 0 && (low >>> 32) == 0xffffL;
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    byte[] bytes = new byte[16];
+    for (int i = 0; i < 8; i++) {
+      bytes[i] = (byte) (high >>> (56 - 8 * i));
+      bytes[i + 8] = (byte) (low >>> (56 - 8 * i));
+    }
+    return bytes;
+  }
+
+  @Override
+  public IPv6Address toIPAddress() {
+    IPv6Address value = new IPv6Address();
+    value.setValue(toString());
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof CompactIPv6Address)) {
+      return false;
+    }
+    CompactIPv6Address other = (CompactIPv6Address) obj;
+    return other.high == high && other.low == low;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(high) * 31 + Long.hashCode(low);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder(39);
+    if (isIPv4Mapped()) {
+      return CompactIPv4Address.append(text.append("::ffff:"), (int) low).toString();
+    }
+    // Find the first longest run of two or more zero groups.
+    int bestStart = -1;
+    int bestLength = 1;
+    for (int i = 0; i < 8; ) {
+      if (group(i) != 0) {
+        i++;
+        continue;
+      }
+      int start = i;
+      while (i < 8 && group(i) == 0) {
+        i++;
+      }
+      if (i - start > bestLength) {
+        bestStart = start;
+        bestLength = i - start;
+      }
+    }
+    for (int i = 0; i < 8; i++) {
+      if (i == bestStart) {
+        text.append("::");
+        i += bestLength - 1;
+        continue;
+      }
+      if (i > 0 && i != bestStart + bestLength) {
+        text.append(':');
+      }
+      appendHex(text, group(i));
+    }
+    return text.toString();
+  }
+
+  private int group(int index) {
+    long bits = index < 4 ? high : low;
+    return (int) (bits >>> (48 - 16 * (index & 3))) & 0xffff;
+  }
+
+  private static void appendHex(StringBuilder text, int group) {
+    boolean leading = true;
+    for (int shift = 12; shift >= 0; shift -= 4) {
+      int digit = (group >>> shift) & 0xf;
+      if (digit != 0 || !leading || shift == 0) {
+        text.append(HEX[digit]);
+        leading = false;
+      }
+    }
+  }
+
+}
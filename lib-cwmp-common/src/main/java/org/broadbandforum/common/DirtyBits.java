@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import java.util.Arrays;
+
+/**
+ * The changed parameters of one entity object, one bit per parameter
+ * ordinal.
+ * <p>
+ * Every entity class with parameters holds its bits in a transient
+ * {@code dirty} field, null unless the object is tracked. The parameter
+ * setters and {@code with} methods mark the parameter they change, and so do
+ * the writes through a {@code CompiledPath}, i.e. {@code PathResolver},
+ * {@code ParameterValueReader} and {@code TreeDiffer.patch}, and an applied
+ * {@code ParameterValueSetter} request. Fields assigned directly, including
+ * through {@code ObjectDescriptor.setValue}, are not tracked.
+ * <p>
+ * The subclass is notified once when the first parameter is marked, so that
+ * a tracker can queue the object instead of searching the tree for changes.
+ * Instances are not thread safe.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public abstract class DirtyBits {
+
+  /**
+   * One bit per parameter ordinal below 64.
+   */
+  private long bits;
+  /**
+   * The bits of the parameter ordinals from 64, allocated on demand.
+   */
+  private long[] overflow;
+  private boolean marked;
+
+  /**
+   * Mark a parameter as changed.
+   *
+   * @param ordinal the parameter ordinal
+   */
+  public final void set(int ordinal) {
+    if (ordinal < 64) {
+      bits |= 1L << ordinal;
+    } else {
+      int word = (ordinal >>> 6) - 1;
+      if (overflow == null || overflow.length <= word) {
+        overflow = overflow == null ? new long[word + 1] : Arrays.copyOf(overflow, word + 1);
+      }
+      overflow[word] |= 1L << ordinal;
+    }
+    if (!marked) {
+      marked = true;
+      marked();
+    }
+  }
+
+  /**
+   * @param ordinal the parameter ordinal
+   * @return true if the parameter was marked since the last clear
+   */
+  public final boolean get(int ordinal) {
+    if (ordinal < 64) {
+      return (bits & 1L << ordinal) != 0;
+    }
+    int word = (ordinal >>> 6) - 1;
+    return overflow != null && word < overflow.length && (overflow[word] & 1L << ordinal) != 0;
+  }
+
+  /**
+   * @param from the first ordinal to consider
+   * @return the first marked ordinal from the given one, -1 if none
+   */
+  public final int nextSetBit(int from) {
+    if (from < 64) {
+      long word = bits & -1L << from;
+      if (word != 0) {
+        return Long.numberOfTrailingZeros(word);
+      }
+      from = 64;
+    }
+    if (overflow != null) {
+      for (int i = (from >>> 6) - 1; i < overflow.length; i++) {
+        long word = i == (from >>> 6) - 1 ? overflow[i] & -1L << from : overflow[i];
+        if (word != 0) {
+          return (i + 1 << 6) + Long.numberOfTrailingZeros(word);
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return true if no parameter was marked since the last clear
+   */
+  public final boolean isEmpty() {
+    return !marked;
+  }
+
+  /**
+   * Unmark every parameter.
+   */
+  public final void clear() {
+    bits = 0;
+    if (overflow != null) {
+      Arrays.fill(overflow, 0);
+    }
+    marked = false;
+  }
+
+  /**
+   * Called when the first parameter is marked after creation or the last
+   * clear.
+   */
+  protected abstract void marked();
+
+}
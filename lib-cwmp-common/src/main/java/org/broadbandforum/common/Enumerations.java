@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The canonical instances of the values of string enumeration parameters,
+ * e.g. "Up" or "Error_Misconfigured".
+ * <p>
+ * The names of {@link DiagnosticsState}, {@link InterfaceStatus} and
+ * {@link ObjectStatus} are registered, as are the names of every enum passed
+ * to {@link #valueOf(Class, CharSequence)}. Further values, e.g. the
+ * enumeration of a vendor extension, are added with
+ * {@link #register(String...)}.
+ * <p>
+ * {@link #intern(CharSequence)} returns the canonical instance of a registered
+ * value without allocating, also when reading from a buffer such as a
+ * {@code StringBuilder}, and any other value unchanged. Parameters read by
+ * {@code ParameterValueReader} or unmarshalled by {@code CWMPContext} are
+ * interned if the metamodel marks them as enumerations, so their values can
+ * be compared by identity and a cached device model holds a single copy of
+ * each name.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class Enumerations {
+
+  private static final Object LOCK = new Object();
+  /**
+   * The registered values, hashed by length and sampled characters with linear
+   * probing.
+   * The length is a power of two and the table is at most half full.
+   * Replaced, never modified, when values are registered.
+   */
+  private static volatile String[] values = new String[64];
+  /**
+   * The number of registered values. Guarded by LOCK.
+   */
+  private static int count;
+  /**
+   * The constants of each enum by canonical name.
+   */
+  private static final ConcurrentMap<Class<?>, Map<String, Enum<?>>> CONSTANTS = new ConcurrentHashMap<>();
+
+  static {
+    register(DiagnosticsState.class);
+    register(InterfaceStatus.class);
+    register(ObjectStatus.class);
+  }
+
+  private Enumerations() {
+  }
+
+  /**
+   * Register the names of the constants of an enum.
+   *
+   * @param type the enum class
+   */
+  public static void register(Class<? extends Enum<?>> type) {
+    Enum<?>[] constants = type.getEnumConstants();
+    String[] names = new String[constants.length];
+    for (int i = 0; i < constants.length; i++) {
+      names[i] = constants[i].name();
+    }
+    register(names);
+  }
+
+  /**
+   * Register enumeration values.
+   *
+   * @param names the values
+   */
+  public static void register(String... names) {
+    synchronized (LOCK) {
+      String[] table = values;
+      int added = 0;
+      for (String name : names) {
+        if (lookup(table, name, hash(name)) == null) {
+          added++;
+        }
+      }
+      if (added == 0) {
+        return;
+      }
+      int length = table.length;
+      while ((count + added) * 2 > length) {
+        length <<= 1;
+      }
+      String[] updated = new String[length];
+      for (String value : table) {
+        if (value != null) {
+          insert(updated, value);
+        }
+      }
+      for (String name : names) {
+        if (lookup(updated, name, hash(name)) == null) {
+          insert(updated, name);
+          count++;
+        }
+      }
+      values = updated;
+    }
+  }
+
+  /**
+   * @param text the value, may be null
+   * @return the canonical instance of a registered value, otherwise the text
+   *         as a String
+   */
+  public static String intern(CharSequence text) {
+    if (text == null) {
+      return null;
+    }
+    String canonical = lookup(values, text, hash(text));
+    return canonical != null ? canonical : text.toString();
+  }
+
+  /**
+   * @param text the value, may be null
+   * @return true if the value is registered
+   */
+  public static boolean isRegistered(CharSequence text) {
+    return text != null && lookup(values, text, hash(text)) != null;
+  }
+
+  /**
+   * Look up an enum constant by name without allocating. The names of the
+   * enum are registered on first use.
+   *
+   * @param <E>  the enum type
+   * @param type the enum class
+   * @param text the name, may be null
+   * @return the constant, null if the enum has no constant of the name, e.g.
+   *         for a vendor specific value
+   */
+  public static <E extends Enum<E>> E valueOf(Class<E> type, CharSequence text) {
+    Map<String, Enum<?>> constants = CONSTANTS.computeIfAbsent(type, Enumerations::constants);
+    String canonical = text == null ? null : lookup(values, text, hash(text));
+    return canonical == null ? null : type.cast(constants.get(canonical));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Enum<?>> constants(Class<?> type) {
+    register((Class<? extends Enum<?>>) type);
+    Map<String, Enum<?>> constants = new HashMap<>();
+    for (Object constant : type.getEnumConstants()) {
+      Enum<?> value = (Enum<?>) constant;
+      constants.put(intern(value.name()), value);
+    }
+    return constants;
+  }
+
+  /**
+   * @return a hash of the length and the first, middle and last characters.
+   *         Enumeration names are short and mostly differ in these.
+   */
+  private static int hash(CharSequence text) {
+    int length = text.length();
+    if (length == 0) {
+      return 0;
+    }
+    int hash = length * 31 + text.charAt(0);
+    hash = hash * 31 + text.charAt(length >>> 1);
+    hash = hash * 31 + text.charAt(length - 1);
+    return hash ^ hash >>> 7;
+  }
+
+  private static String lookup(String[] table, CharSequence text, int hash) {
+    int mask = table.length - 1;
+    for (int i = hash & mask;; i = (i + 1) & mask) {
+      String value = table[i];
+      if (value == null) {
+        return null;
+      }
+      if (value.length() == text.length() && value.contentEquals(text)) {
+        return value;
+      }
+    }
+  }
+
+  private static void insert(String[] table, String value) {
+    int mask = table.length - 1;
+    int i = hash(value) & mask;
+    while (table[i] != null) {
+      i = (i + 1) & mask;
+    }
+    table[i] = value;
+  }
+
+}
@@ -0,0 +1,662 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.broadbandforum.metamodel.CompactObject;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+
+/**
+ * The rows of a multi-instance object, e.g. {@code Device.Hosts.Host.{i}.},
+ * indexed by their CWMP instance number.
+ * <p>
+ * Rows added with {@link #add(Object)} are assigned the next instance number.
+ * Instance numbers are stable: deleting a row never renumbers the remaining
+ * rows and a deleted instance number is not assigned again. Iteration returns
+ * the rows in insertion order, which is also the marshalling order.
+ * <p>
+ * Lookup by instance number, membership, removal and
+ * {@link #instanceNumberOf(Object)} are constant time. Rows are compared by
+ * identity.
+ * <p>
+ * The unique key constraints declared by {@code @CWMPObject} on the row type
+ * are backed by hash indexes, built on the first call to
+ * {@link #byUnique(String, Object)}, {@link #findConflict(Object)} or
+ * {@link #getViolationCount()} and then kept up to date as rows are added,
+ * replaced and removed. A row whose key parameter is null or empty is not
+ * indexed under that constraint. An indexed row holds a reference to its
+ * table, so the setters and {@code with} methods of its key parameters
+ * reindex it, as does {@code CompiledPath}. A key field assigned directly,
+ * including through {@code ObjectDescriptor.setValue}, must be followed by
+ * {@link #reindex(Object)}. A row is indexed by the last table it was added
+ * to. Rows of any type no installed metamodel describes, e.g.
+ * {@code CompactObject}s or plain beans, have no unique indexes.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <T> the row type
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class InstanceTable<T> extends AbstractCollection<T> {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  /**
+   * Entries hashed by instance number.
+   */
+  private Entry<T>[] instances;
+  /**
+   * Entries hashed by row identity.
+   */
+  private Entry<T>[] rows;
+  private Entry<T> head;
+  private Entry<T> tail;
+  private int size;
+  private int nextInstanceNumber = 1;
+  private int modCount;
+  /**
+   * The row type descriptor, set when the unique indexes are built.
+   */
+  private ObjectDescriptor<?> descriptor;
+  /**
+   * One hash index per unique constraint, mapping each key to its entry or,
+   * if the key is duplicated, to a list of entries. Null until first used.
+   */
+  private Map<Object, Object>[] uniqueIndexes;
+  /**
+   * The number of rows duplicating the key of another row.
+   */
+  private int violations;
+
+  public InstanceTable() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  /**
+   * @param rows the initial rows, numbered from 1 in iteration order
+   */
+  public InstanceTable(Collection<? extends T> rows) {
+    allocate(capacityFor(rows.size()));
+    addAll(rows);
+  }
+
+  /**
+   * Convert any table collection into an instance table.
+   *
+   * @param <T>   the row type
+   * @param table the table collection, may be null
+   * @return the collection itself if it is already an instance table,
+   *         otherwise a new instance table holding the same rows numbered from 1
+   *         in iteration order
+   */
+  public static <T> InstanceTable<T> of(Collection<T> table) {
+    if (table instanceof InstanceTable) {
+      return (InstanceTable<T>) table;
+    }
+    return table == null ? new InstanceTable<>() : new InstanceTable<>(table);
+  }
+
+  /**
+   * @param instanceNumber the instance number
+   * @return the row, null if there is no such instance
+   */
+  public T get(int instanceNumber) {
+    Entry<T> entry = entry(instanceNumber);
+    return entry == null ? null : entry.row;
+  }
+
+  /**
+   * @param row the row
+   * @return the instance number of the row, 0 if the row is not in this table
+   */
+  public int instanceNumberOf(Object row) {
+    Entry<T> entry = entryOf(row);
+    return entry == null ? 0 : entry.instanceNumber;
+  }
+
+  /**
+   * @return the instance number the next added row will be assigned
+   */
+  public int getNextInstanceNumber() {
+    return nextInstanceNumber;
+  }
+
+  /**
+   * Raise the instance number the next added row will be assigned, e.g. when
+   * restoring a table whose last rows were deleted. Never lowers it.
+   *
+   * @param nextInstanceNumber the next instance number
+   */
+  public void setNextInstanceNumber(int nextInstanceNumber) {
+    if (nextInstanceNumber > this.nextInstanceNumber) {
+      this.nextInstanceNumber = nextInstanceNumber;
+    }
+  }
+
+  /**
+   * Add a row with the next instance number.
+   *
+   * @param row the row
+   * @return true if the row was added, false if it is already in this table
+   */
+  @Override
+  public boolean add(T row) {
+    if (entryOf(row) != null) {
+      return false;
+    }
+    insert(nextInstanceNumber, row);
+    return true;
+  }
+
+  /**
+   * Add or replace the row with the given instance number. A new row is
+   * appended to the iteration order; a replaced row keeps its position.
+   *
+   * @param instanceNumber the instance number, at least 1
+   * @param row            the row
+   * @return the replaced row, null if there was no such instance
+   * @throws IllegalArgumentException if the instance number is not positive
+   *                                  or the row is already in this table under
+   *                                  another instance number
+   */
+  public T put(int instanceNumber, T row) {
+    if (instanceNumber < 1) {
+      throw new IllegalArgumentException("Invalid instance number " + instanceNumber);
+    }
+    if (row == null) {
+      throw new NullPointerException("Table rows must not be null");
+    }
+    Entry<T> existing = entryOf(row);
+    if (existing != null) {
+      if (existing.instanceNumber != instanceNumber) {
+        throw new IllegalArgumentException("Row is already instance " + existing.instanceNumber);
+      }
+      return row;
+    }
+    Entry<T> entry = entry(instanceNumber);
+    if (entry == null) {
+      insert(instanceNumber, row);
+      return null;
+    }
+    T replaced = entry.row;
+    unlinkRow(entry);
+    if (uniqueIndexes != null) {
+      unindex(entry);
+      detach(replaced);
+    }
+    entry.row = row;
+    entry.rowHash = hash(row);
+    linkRow(entry);
+    if (uniqueIndexes != null) {
+      index(entry);
+    }
+    modCount++;
+    return replaced;
+  }
+
+  /**
+   * Look up a row by a single-parameter unique key, e.g.
+   * {@code byUnique("PhysAddress", mac)}.
+   *
+   * @param name  the unique key parameter name
+   * @param value the key value, either the parameter value, its wrapped
+   *              value or its text
+   * @return the row, null if no row has the key. If several rows violate the
+   *         constraint the first added is returned.
+   * @throws IllegalArgumentException if the row type declares no unique
+   *                                  constraint on the parameter
+   */
+  public T byUnique(String name, Object value) {
+    return byUnique(new String[]{name}, value);
+  }
+
+  /**
+   * Look up a row by a unique key.
+   *
+   * @param names  the unique key parameter names, in declaration order
+   * @param values the key values or their text, one per parameter
+   * @return the row, null if no row has the key
+   * @throws IllegalArgumentException if the row type declares no such unique
+   *                                  constraint
+   */
+  public T byUnique(String[] names, Object... values) {
+    if (!buildIndexes()) {
+      return null;
+    }
+    int constraint = descriptor == null ? -1 : descriptor.getUniqueConstraint(names);
+    if (constraint < 0 || names.length != values.length) {
+      throw new IllegalArgumentException("No unique constraint " + String.join(", ", names) + " on "
+                                         + (descriptor == null ? head.row.getClass().getName() : descriptor));
+    }
+    Object key = descriptor.toUniqueKey(constraint, values);
+    Entry<T> entry = key == null ? null : first(uniqueIndexes[constraint].get(key));
+    return entry == null ? null : entry.row;
+  }
+
+  /**
+   * Find a row with the same unique key as the given row, under any unique
+   * constraint. Use before adding a row to reject it, or after changing a key
+   * parameter to report the violation.
+   *
+   * @param row the row, in this table or not
+   * @return another row of this table with an equal key, null if none
+   */
+  @SuppressWarnings("unchecked")
+  public T findConflict(T row) {
+    if (!buildIndexes()) {
+      return null;
+    }
+    for (int i = 0; i < uniqueIndexes.length; i++) {
+      Object key = descriptor.getUniqueKey(row, i);
+      Object indexed = key == null ? null : uniqueIndexes[i].get(key);
+      if (indexed instanceof Entry) {
+        if (((Entry<?>) indexed).row != row) {
+          return ((Entry<T>) indexed).row;
+        }
+      } else if (indexed != null) {
+        for (Entry<T> entry : (List<Entry<T>>) indexed) {
+          if (entry.row != row) {
+            return entry.row;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the number of rows duplicating the unique key of another row,
+   *         zero if all unique constraints hold
+   */
+  public int getViolationCount() {
+    buildIndexes();
+    return violations;
+  }
+
+  /**
+   * Update the unique indexes after a key parameter of a row was changed in
+   * place.
+   *
+   * @param row the row
+   * @return true if the row is in this table
+   */
+  public boolean reindex(Object row) {
+    Entry<T> entry = entryOf(row);
+    if (entry == null) {
+      return false;
+    }
+    if (uniqueIndexes != null) {
+      unindex(entry);
+      index(entry);
+    }
+    return true;
+  }
+
+  @Override
+  public boolean contains(Object row) {
+    return entryOf(row) != null;
+  }
+
+  @Override
+  public boolean remove(Object row) {
+    Entry<T> entry = entryOf(row);
+    if (entry == null) {
+      return false;
+    }
+    delete(entry);
+    return true;
+  }
+
+  /**
+   * @param instanceNumber the instance number
+   * @return the removed row, null if there was no such instance
+   */
+  public T removeInstance(int instanceNumber) {
+    Entry<T> entry = entry(instanceNumber);
+    if (entry == null) {
+      return null;
+    }
+    delete(entry);
+    return entry.row;
+  }
+
+  /**
+   * Remove all rows. Instance numbers of the removed rows are not assigned
+   * again.
+   */
+  @Override
+  public void clear() {
+    if (size > 0) {
+      if (uniqueIndexes != null) {
+        for (Entry<T> e = head; e != null; e = e.after) {
+          detach(e.row);
+        }
+      }
+      allocate(instances.length);
+      head = null;
+      tail = null;
+      size = 0;
+      uniqueIndexes = null;
+      violations = 0;
+      modCount++;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      private Entry<T> next = head;
+      private Entry<T> last;
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public T next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        last = next;
+        next = next.after;
+        return last.row;
+      }
+
+      @Override
+      public void remove() {
+        if (last == null) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        delete(last);
+        last = null;
+        expectedModCount = modCount;
+      }
+    };
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Hash table">
+  private void insert(int instanceNumber, T row) {
+    if (row == null) {
+      throw new NullPointerException("Table rows must not be null");
+    }
+    if (size >= instances.length - (instances.length >> 2)) {
+      resize(instances.length << 1);
+    }
+    Entry<T> entry = new Entry<>(instanceNumber, row, hash(row));
+    int index = instanceNumber & (instances.length - 1);
+    entry.instanceNext = instances[index];
+    instances[index] = entry;
+    linkRow(entry);
+    if (tail == null) {
+      head = entry;
+    } else {
+      tail.after = entry;
+      entry.before = tail;
+    }
+    tail = entry;
+    size++;
+    modCount++;
+    if (uniqueIndexes != null) {
+      index(entry);
+    }
+    if (instanceNumber >= nextInstanceNumber) {
+      nextInstanceNumber = instanceNumber + 1;
+    }
+  }
+
+  private void delete(Entry<T> entry) {
+    int index = entry.instanceNumber & (instances.length - 1);
+    Entry<T> previous = null;
+    for (Entry<T> e = instances[index]; e != null; previous = e, e = e.instanceNext) {
+      if (e == entry) {
+        if (previous == null) {
+          instances[index] = e.instanceNext;
+        } else {
+          previous.instanceNext = e.instanceNext;
+        }
+        break;
+      }
+    }
+    unlinkRow(entry);
+    if (uniqueIndexes != null) {
+      unindex(entry);
+      detach(entry.row);
+    }
+    if (entry.before == null) {
+      head = entry.after;
+    } else {
+      entry.before.after = entry.after;
+    }
+    if (entry.after == null) {
+      tail = entry.before;
+    } else {
+      entry.after.before = entry.before;
+    }
+    entry.before = null;
+    entry.after = null;
+    size--;
+    modCount++;
+  }
+
+  private void linkRow(Entry<T> entry) {
+    int index = entry.rowHash & (rows.length - 1);
+    entry.rowNext = rows[index];
+    rows[index] = entry;
+  }
+
+  private void unlinkRow(Entry<T> entry) {
+    int index = entry.rowHash & (rows.length - 1);
+    Entry<T> previous = null;
+    for (Entry<T> e = rows[index]; e != null; previous = e, e = e.rowNext) {
+      if (e == entry) {
+        if (previous == null) {
+          rows[index] = e.rowNext;
+        } else {
+          previous.rowNext = e.rowNext;
+        }
+        return;
+      }
+    }
+  }
+
+  private Entry<T> entry(int instanceNumber) {
+    for (Entry<T> e = instances[instanceNumber & (instances.length - 1)]; e != null; e = e.instanceNext) {
+      if (e.instanceNumber == instanceNumber) {
+        return e;
+      }
+    }
+    return null;
+  }
+
+  private Entry<T> entryOf(Object row) {
+    if (row == null) {
+      return null;
+    }
+    for (Entry<T> e = rows[hash(row) & (rows.length - 1)]; e != null; e = e.rowNext) {
+      if (e.row == row) {
+        return e;
+      }
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void allocate(int capacity) {
+    instances = (Entry<T>[]) new Entry<?>[capacity];
+    rows = (Entry<T>[]) new Entry<?>[capacity];
+  }
+
+  private void resize(int capacity) {
+    allocate(capacity);
+    for (Entry<T> e = head; e != null; e = e.after) {
+      int index = e.instanceNumber & (capacity - 1);
+      e.instanceNext = instances[index];
+      instances[index] = e;
+      linkRow(e);
+    }
+  }
+
+  private static int capacityFor(int size) {
+    int capacity = INITIAL_CAPACITY;
+    while (capacity - (capacity >> 2) <= size) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static int hash(Object row) {
+    int h = System.identityHashCode(row);
+    return h ^ (h >>> 16);
+  }
+
+  private static final class Entry<T> {
+
+    final int instanceNumber;
+    T row;
+    int rowHash;
+    Entry<T> before;
+    Entry<T> after;
+    Entry<T> instanceNext;
+    Entry<T> rowNext;
+    /**
+     * The indexed key of each unique constraint.
+     */
+    Object[] keys;
+
+    Entry(int instanceNumber, T row, int rowHash) {
+      this.instanceNumber = instanceNumber;
+      this.row = row;
+      this.rowHash = rowHash;
+    }
+  }
+  //</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Unique indexes">
+  /**
+   * Build the unique indexes if not yet built.
+   *
+   * @return false if the table is empty and the indexes are not built
+   */
+  @SuppressWarnings("unchecked")
+  private boolean buildIndexes() {
+    if (uniqueIndexes != null) {
+      return true;
+    }
+    if (head == null) {
+      return false;
+    }
+    descriptor = head.row instanceof CompactObject ? null : Metamodel.find(head.row.getClass());
+    uniqueIndexes = (Map<Object, Object>[]) new Map<?, ?>[descriptor == null ? 0 : descriptor.getUniqueConstraints().size()];
+    for (int i = 0; i < uniqueIndexes.length; i++) {
+      uniqueIndexes[i] = new HashMap<>(capacityFor(size));
+    }
+    for (Entry<T> e = head; e != null; e = e.after) {
+      index(e);
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void index(Entry<T> entry) {
+    if (uniqueIndexes.length > 0) {
+      descriptor.setIndexingTable(entry.row, this);
+    }
+    entry.keys = new Object[uniqueIndexes.length];
+    for (int i = 0; i < uniqueIndexes.length; i++) {
+      Object key = descriptor.getUniqueKey(entry.row, i);
+      entry.keys[i] = key;
+      if (key == null) {
+        continue;
+      }
+      Object indexed = uniqueIndexes[i].putIfAbsent(key, entry);
+      if (indexed instanceof Entry) {
+        List<Entry<T>> duplicates = new ArrayList<>(2);
+        duplicates.add((Entry<T>) indexed);
+        duplicates.add(entry);
+        uniqueIndexes[i].put(key, duplicates);
+        violations++;
+      } else if (indexed != null) {
+        ((List<Entry<T>>) indexed).add(entry);
+        violations++;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void unindex(Entry<T> entry) {
+    for (int i = 0; i < uniqueIndexes.length; i++) {
+      Object key = entry.keys[i];
+      if (key == null) {
+        continue;
+      }
+      Object indexed = uniqueIndexes[i].get(key);
+      if (indexed == entry) {
+        uniqueIndexes[i].remove(key);
+      } else if (indexed instanceof List) {
+        List<Entry<T>> duplicates = (List<Entry<T>>) indexed;
+        if (duplicates.remove(entry)) {
+          violations--;
+          if (duplicates.size() == 1) {
+            uniqueIndexes[i].put(key, duplicates.get(0));
+          }
+        }
+      }
+    }
+    entry.keys = null;
+  }
+
+  /**
+   * Stop the setters of a row leaving this table from reindexing it here.
+   */
+  private void detach(Object row) {
+    if (uniqueIndexes.length > 0 && descriptor.getIndexingTable(row) == this) {
+      descriptor.setIndexingTable(row, null);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Entry<T> first(Object indexed) {
+    if (indexed instanceof List) {
+      return ((List<Entry<T>>) indexed).get(0);
+    }
+    return (Entry<T>) indexed;
+  }
+  //</editor-fold>
+
+}
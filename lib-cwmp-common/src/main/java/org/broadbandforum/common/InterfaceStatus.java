@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+/**
+ * The operational state of an interface object, e.g. the {@code Status}
+ * parameter of {@code Device.Ethernet.Interface.{i}.}, as defined by TR-181.
+ * <p>
+ * The parameter remains a String so that vendor specific values are kept;
+ * {@link #of(CharSequence)} maps it to a constant.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public enum InterfaceStatus {
+
+  Up,
+  Down,
+  Unknown,
+  Dormant,
+  NotPresent,
+  LowerLayerDown,
+  Error;
+
+  /**
+   * @param text the parameter value, may be null
+   * @return the constant, null if the value is not a standard status
+   */
+  public static InterfaceStatus of(CharSequence text) {
+    return Enumerations.valueOf(InterfaceStatus.class, text);
+  }
+
+}
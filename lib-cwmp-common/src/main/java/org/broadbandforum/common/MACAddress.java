@@ -15,8 +15,7 @@
  */
 package org.broadbandforum.common;
 
-import javax.validation.constraints.Pattern;
-import javax.validation.constraints.Size;
+import javax.validation.constraints.AssertTrue;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -25,27 +24,98 @@ import javax.xml.bind.annotation.XmlValue;
 
 	/**
 	 * All MAC addresses are represented as strings of 12 hexadecimal digits (digits 0-9, letters A-F or a-f) displayed as six pairs of digits separated by colons.  Unspecified or inapplicable MAC addresses MUST be represented as empty strings unless otherwise specified by the parameter definition.
+	 * <p>
+	 * The address is held in the low 48 bits of a {@code long} and parsed by a
+	 * hand-written scanner. The text is written back in the case it was read
+	 * in, so the XML output is unchanged: an address in all lower or all upper
+	 * case digits is written from the bits, one that mixes both cases keeps
+	 * its text. A value that is not a valid MAC address is kept as text and
+	 * fails validation.
+	 * <p>
+	 * The public {@code value} field of earlier releases is replaced by the
+	 * packed address; read and write the text with {@link #getValue()} and
+	 * {@link #setValue(String)} instead.
 	 */
 @XmlRootElement(name = "org.broadbandforum.common.MACAddress")
 @XmlType(name = "org.broadbandforum.common.MACAddress")
-@XmlAccessorType(XmlAccessType.FIELD)
+@XmlAccessorType(XmlAccessType.NONE)
 public class MACAddress {
 
-	@Size(max = 17)
-	@Pattern(regexp = "([0-9A-Fa-f][0-9A-Fa-f]:){5}([0-9A-Fa-f][0-9A-Fa-f])")
-	@XmlValue
-	public String value;
+	/**
+	 * The address bits.
+	 */
+	private static final long ADDRESS = 0xffffffffffffL;
+	/**
+	 * Set if the hexadecimal digits are written in upper case.
+	 */
+	private static final long UPPER_CASE = 1L << 48;
+	/**
+	 * Set by the scanner if the hexadecimal digits mix lower and upper case.
+	 */
+	private static final long MIXED_CASE = 1L << 49;
+	/**
+	 * The value is null.
+	 */
+	private static final long NULL = -1;
+	/**
+	 * The value is empty, i.e. unspecified, or not a valid MAC address.
+	 */
+	private static final long TEXT = -2;
+
+	private static final char[] LOWER = "0123456789abcdef".toCharArray();
+	private static final char[] UPPER = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * The address bits and case flag, or one of the NULL and TEXT markers.
+	 */
+	private long address = NULL;
+	/**
+	 * The text if the value is empty, not a valid MAC address or a MAC address
+	 * in mixed case.
+	 */
+	private String text;
 
 	public MACAddress() {
 	}
 
+	/**
+	 * @param address the 48 address bits
+	 * @return the address
+	 */
+	public static MACAddress valueOf(long address) {
+		MACAddress value = new MACAddress();
+		value.address = address & ADDRESS;
+		return value;
+	}
+
+	/**
+	 * @param value the address text, e.g. "00:1a:2b:3c:4d:5e"
+	 * @return the address, null if the value is null
+	 */
+	public static MACAddress of(String value) {
+		return value == null ? null : new MACAddress().withValue(value);
+	}
+
 	//<editor-fold defaultstate="collapsed" desc="Getter and Setter">
 	/**
 	 *
 	 * @return the value
 	 */
+	@XmlValue
 	public String getValue() {
-		return value;
+		if (address == NULL || text != null) {
+			return text;
+		}
+		char[] digits = (address & UPPER_CASE) == 0 ? LOWER : UPPER;
+		char[] chars = new char[17];
+		for (int i = 0, shift = 44; i < 17; i += 3, shift -= 8) {
+			chars[i] = digits[(int) (address >>> shift) & 0xf];
+			chars[i + 1] = digits[(int) (address >>> (shift - 4)) & 0xf];
+			if (i < 15) {
+				chars[i + 2] = ':';
+			}
+		}
+		return new String(chars);
 	}
 
 	/**
@@ -53,7 +123,14 @@ public class MACAddress {
 	 * @param value the input value
 	 */
 	public void  setValue(String value) {
-		this.value = value;
+		this.text = null;
+		this.address = value == null ? NULL : parse(value);
+		if (this.address == TEXT) {
+			this.text = value;
+		} else if (this.address >= 0 && (this.address & MIXED_CASE) != 0) {
+			this.text = value;
+			this.address &= ~MIXED_CASE;
+		}
 	}
 
 	/**
@@ -62,10 +139,140 @@ public class MACAddress {
 	 * @return this instance
 	 */
 	public MACAddress withValue(String value) {
-		this.value = value;
+		setValue(value);
 		return this;
 	}
 
 	//</editor-fold>
 
-}
\ No newline at end of file
+	/**
+	 * Scan six colon separated pairs of hexadecimal digits.
+	 *
+	 * @param value the text
+	 * @return the address bits and case flags, TEXT if the text is not a valid
+	 *         MAC address
+	 */
+	private static long parse(String value) {
+		if (value.length() != 17) {
+			return TEXT;
+		}
+		long bits = 0;
+		boolean lower = false;
+		boolean upper = false;
+		for (int i = 0; i < 17; i++) {
+			char c = value.charAt(i);
+			if (i % 3 == 2) {
+				if (c != ':') {
+					return TEXT;
+				}
+				continue;
+			}
+			int digit;
+			if (c >= '0' && c <= '9') {
+				digit = c - '0';
+			} else if (c >= 'a' && c <= 'f') {
+				digit = c - 'a' + 10;
+				lower = true;
+			} else if (c >= 'A' && c <= 'F') {
+				digit = c - 'A' + 10;
+				upper = true;
+			} else {
+				return TEXT;
+			}
+			bits = bits << 4 | digit;
+		}
+		if (upper) {
+			return lower ? bits | MIXED_CASE : bits | UPPER_CASE;
+		}
+		return bits;
+	}
+
+	/**
+	 * @return true if the value is null, empty or a valid MAC address
+	 */
+	@AssertTrue
+	public boolean isValid() {
+		return address != TEXT || text.isEmpty();
+	}
+
+	/**
+	 * @return true if the value is a MAC address, false if it is null, empty
+	 *         or not valid
+	 */
+	public boolean isAddress() {
+		return address >= 0;
+	}
+
+	/**
+	 * @return true if the value is a MAC address written with upper case
+	 *         hexadecimal digits
+	 */
+	public boolean isUpperCase() {
+		return address >= 0 && (address & UPPER_CASE) != 0;
+	}
+
+	/**
+	 * @return true if the value is a MAC address written with both lower and
+	 *         upper case hexadecimal digits, whose text is kept as read
+	 */
+	public boolean isMixedCase() {
+		return address >= 0 && text != null;
+	}
+
+	/**
+	 * @param address   the 48 address bits
+	 * @param upperCase true to write the hexadecimal digits in upper case
+	 * @return the address
+	 */
+	public static MACAddress valueOf(long address, boolean upperCase) {
+		MACAddress value = valueOf(address);
+		if (upperCase) {
+			value.address |= UPPER_CASE;
+		}
+		return value;
+	}
+
+	/**
+	 * @return the 48 address bits, -1 if the value is not a MAC address
+	 */
+	public long longValue() {
+		return address >= 0 ? address & ADDRESS : -1;
+	}
+
+	/**
+	 * @return the 24-bit Organizationally Unique Identifier, i.e. the first
+	 *         three octets, -1 if the value is not a MAC address
+	 */
+	public int getOUI() {
+		return address >= 0 ? (int) ((address & ADDRESS) >>> 24) : -1;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof MACAddress)) {
+			return false;
+		}
+		MACAddress other = (MACAddress) obj;
+		if (address >= 0) {
+			return other.address >= 0 && ((address ^ other.address) & ADDRESS) == 0;
+		}
+		return address == other.address && (text == null ? other.text == null : text.equals(other.text));
+	}
+
+	@Override
+	public int hashCode() {
+		if (address >= 0) {
+			return Long.hashCode(address & ADDRESS);
+		}
+		return text == null ? 0 : text.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return getValue();
+	}
+
+}
@@ -31,25 +31,50 @@ The value ''maxval'' indicates that no data is available for this parameter.  In
 The actual value of the statistic might be greater than ''maxval''. Such values SHOULD wrap around through zero.
 
 The term ''packet'' is to be interpreted as the transmission unit appropriate to the protocol layer in question, e.g. an IP packet or an Ethernet frame.
+	 * <p>
+	 * The value is held in the low 32 bits of a primitive {@code long}.
+	 * <p>
+	 * The public {@code value} field of earlier releases is replaced by the
+	 * primitive; read and write the value with {@link #getValue()} and
+	 * {@link #setValue(Long)} instead. A value set outside the ''unsignedInt''
+	 * range is truncated to its low 32 bits.
 	 */
 @XmlRootElement(name = "org.broadbandforum.common.StatsCounter32")
 @XmlType(name = "org.broadbandforum.common.StatsCounter32")
-@XmlAccessorType(XmlAccessType.FIELD)
+@XmlAccessorType(XmlAccessType.NONE)
 public class StatsCounter32 {
 
-	@XmlValue
-	public Long value;
+	/**
+	 * The maximum value, 0xffffffff, indicating that no data is available.
+	 */
+	public static final long MAX_VALUE = 0xffffffffL;
+
+	private long value;
+	/**
+	 * False if the value is null.
+	 */
+	private boolean present;
 
 	public StatsCounter32() {
 	}
 
+	/**
+	 * @param value the counter value, read as unsigned
+	 * @return the counter
+	 */
+	public static StatsCounter32 valueOf(long value) {
+		StatsCounter32 counter = new StatsCounter32();
+		counter.setLongValue(value);
+		return counter;
+	}
+
 	//<editor-fold defaultstate="collapsed" desc="Getter and Setter">
 	/**
 	 *
 	 * @return the value
 	 */
 	public Long getValue() {
-		return value;
+		return present ? value : null;
 	}
 
 	/**
@@ -57,7 +82,8 @@ public class StatsCounter32 {
 	 * @param value the input value
 	 */
 	public void  setValue(Long value) {
-		this.value = value;
+		this.present = value != null;
+		this.value = present ? value & MAX_VALUE : 0;
 	}
 
 	/**
@@ -66,10 +92,70 @@ public class StatsCounter32 {
 	 * @return this instance
 	 */
 	public StatsCounter32 withValue(Long value) {
-		this.value = value;
+		setValue(value);
 		return this;
 	}
 
 	//</editor-fold>
 
-}
\ No newline at end of file
+	/**
+	 * @return the value without boxing, read as unsigned; MAX_VALUE if the value
+	 *         is null
+	 */
+	public long longValue() {
+		return present ? value : MAX_VALUE;
+	}
+
+	/**
+	 * @param value the value, read as unsigned
+	 */
+	public void setLongValue(long value) {
+		this.present = true;
+		this.value = value & MAX_VALUE;
+	}
+
+	/**
+	 * @return true if the value is set and is not the no data value
+	 */
+	public boolean isAvailable() {
+		return present && value != MAX_VALUE;
+	}
+
+	@XmlValue
+	private String getLexicalValue() {
+		return present ? Long.toString(value) : "";
+	}
+
+	private void setLexicalValue(String value) {
+		this.present = value != null && !value.trim().isEmpty();
+		this.value = present ? parse(value.trim()) : 0;
+	}
+
+	private static long parse(String value) {
+		long parsed = Long.parseLong(value);
+		if (parsed < 0 || parsed > MAX_VALUE) {
+			throw new NumberFormatException("Not an unsignedInt: " + value);
+		}
+		return parsed;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof StatsCounter32)) {
+			return false;
+		}
+		StatsCounter32 other = (StatsCounter32) obj;
+		return present == other.present && value == other.value;
+	}
+
+	@Override
+	public int hashCode() {
+		return present ? Long.hashCode(value) : -1;
+	}
+
+	@Override
+	public String toString() {
+		return getLexicalValue();
+	}
+
+}
@@ -29,25 +29,51 @@ This data type SHOULD be used for all statistics parameters whose values might b
 The maximum value that can be represented as an ''unsignedLong'' (i.e. 0xffffffffffffffff) indicates that no data is available for this parameter.
 
 The term ''packet'' is to be interpreted as the transmission unit appropriate to the protocol layer in question, e.g. an IP packet or an Ethernet frame.
+	 * <p>
+	 * The value is held in a primitive {@code long} read as unsigned, so the
+	 * whole ''unsignedLong'' range including the no data value is represented.
+	 * <p>
+	 * The public {@code value} field of earlier releases is replaced by the
+	 * primitive; read and write the value with {@link #getValue()} and
+	 * {@link #setValue(Long)} instead, or with {@link #longValue()} and
+	 * {@link #setLongValue(long)} to avoid boxing.
 	 */
 @XmlRootElement(name = "org.broadbandforum.common.StatsCounter64")
 @XmlType(name = "org.broadbandforum.common.StatsCounter64")
-@XmlAccessorType(XmlAccessType.FIELD)
+@XmlAccessorType(XmlAccessType.NONE)
 public class StatsCounter64 {
 
-	@XmlValue
-	public Long value;
+	/**
+	 * The maximum value, 0xffffffffffffffff, indicating that no data is available.
+	 */
+	public static final long MAX_VALUE = -1L;
+
+	private long value;
+	/**
+	 * False if the value is null.
+	 */
+	private boolean present;
 
 	public StatsCounter64() {
 	}
 
+	/**
+	 * @param value the counter value, read as unsigned
+	 * @return the counter
+	 */
+	public static StatsCounter64 valueOf(long value) {
+		StatsCounter64 counter = new StatsCounter64();
+		counter.setLongValue(value);
+		return counter;
+	}
+
 	//<editor-fold defaultstate="collapsed" desc="Getter and Setter">
 	/**
 	 *
 	 * @return the value
 	 */
 	public Long getValue() {
-		return value;
+		return present ? value : null;
 	}
 
 	/**
@@ -55,7 +81,8 @@ public class StatsCounter64 {
 	 * @param value the input value
 	 */
 	public void  setValue(Long value) {
-		this.value = value;
+		this.present = value != null;
+		this.value = present ? value : 0;
 	}
 
 	/**
@@ -64,10 +91,62 @@ public class StatsCounter64 {
 	 * @return this instance
 	 */
 	public StatsCounter64 withValue(Long value) {
-		this.value = value;
+		setValue(value);
 		return this;
 	}
 
 	//</editor-fold>
 
-}
\ No newline at end of file
+	/**
+	 * @return the value without boxing, read as unsigned; MAX_VALUE if the value
+	 *         is null
+	 */
+	public long longValue() {
+		return present ? value : MAX_VALUE;
+	}
+
+	/**
+	 * @param value the value, read as unsigned
+	 */
+	public void setLongValue(long value) {
+		this.present = true;
+		this.value = value;
+	}
+
+	/**
+	 * @return true if the value is set and is not the no data value
+	 */
+	public boolean isAvailable() {
+		return present && value != MAX_VALUE;
+	}
+
+	@XmlValue
+	private String getLexicalValue() {
+		return present ? Long.toUnsignedString(value) : "";
+	}
+
+	private void setLexicalValue(String value) {
+		this.present = value != null && !value.trim().isEmpty();
+		this.value = present ? Long.parseUnsignedLong(value.trim()) : 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof StatsCounter64)) {
+			return false;
+		}
+		StatsCounter64 other = (StatsCounter64) obj;
+		return present == other.present && value == other.value;
+	}
+
+	@Override
+	public int hashCode() {
+		return present ? Long.hashCode(value) : -1;
+	}
+
+	@Override
+	public String toString() {
+		return getLexicalValue();
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common.adapter;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import org.broadbandforum.common.CompactIPv6Address;
+
+/**
+ * Binds a {@link CompactIPv6Address} to the text representation of an IPv6 address in
+ * XML. Empty text is an unspecified address and binds to null.
+ * <pre>
+ * &#64;XmlElement(name = "IPAddress")
+ * &#64;XmlJavaTypeAdapter(CompactIPv6AddressAdapter.class)
+ * public CompactIPv6Address ipaddress;
+ * </pre>
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class CompactIPv6AddressAdapter extends XmlAdapter<String, CompactIPv6Address> {
+
+  @Override
+  public CompactIPv6Address unmarshal(String value) {
+    return value == null ? null : CompactIPv6Address.parse(value.trim());
+  }
+
+  @Override
+  public String marshal(CompactIPv6Address value) {
+    return value == null ? null : value.toString();
+  }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common.adapter;
+
+import java.time.LocalDateTime;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import org.broadbandforum.common.CWMPDateTime;
+
+/**
+ * Binds a {@link LocalDateTime} in UTC to the text of a CWMP dateTime, e.g.
+ * {@code 2018-02-20T14:52:26Z}. Empty text binds to null.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ * @see CWMPDateTime
+ */
+public class DateTimeAdapter extends XmlAdapter<String, LocalDateTime> {
+
+  @Override
+  public LocalDateTime unmarshal(String value) {
+    return value == null ? null : CWMPDateTime.parse(value.trim());
+  }
+
+  @Override
+  public String marshal(LocalDateTime value) {
+    return CWMPDateTime.format(value);
+  }
+
+}
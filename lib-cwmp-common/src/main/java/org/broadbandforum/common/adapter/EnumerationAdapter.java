@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common.adapter;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import org.broadbandforum.common.Enumerations;
+
+/**
+ * Binds a string enumeration parameter to the canonical instance of its
+ * value. Values that are not registered, e.g. vendor specific ones, are kept
+ * as read.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ * @see Enumerations
+ */
+public class EnumerationAdapter extends XmlAdapter<String, String> {
+
+  @Override
+  public String unmarshal(String value) {
+    return Enumerations.intern(value);
+  }
+
+  @Override
+  public String marshal(String value) {
+    return value;
+  }
+
+}
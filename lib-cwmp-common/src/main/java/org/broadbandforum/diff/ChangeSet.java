@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.diff;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The differences between two trees of the same data model, as computed by
+ * {@link TreeDiffer#diff(Object, Object)}: the changed parameters, the added
+ * and deleted table rows and the added and removed single-instance objects.
+ * <p>
+ * Changes are listed in tree order. The parameters of an added row or object
+ * are listed as changed parameters whose old value is null, and its nested
+ * objects as added too. A deleted row is listed once, without its parameters
+ * or nested rows. The parameters of a removed object are listed as changed
+ * parameters whose new value is null and its nested rows as deleted, but its
+ * nested objects are not listed as removed.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ChangeSet {
+
+  private final List<ParameterChange> parameters = new ArrayList<>();
+  private final List<InstanceChange> added = new ArrayList<>();
+  private final List<InstanceChange> deleted = new ArrayList<>();
+  private final List<InstanceChange> addedObjects = new ArrayList<>();
+  private final List<InstanceChange> removedObjects = new ArrayList<>();
+
+  ChangeSet() {
+  }
+
+  void addParameter(ParameterChange change) {
+    parameters.add(change);
+  }
+
+  void addInstance(InstanceChange change) {
+    added.add(change);
+  }
+
+  void deleteInstance(InstanceChange change) {
+    deleted.add(change);
+  }
+
+  void addObject(InstanceChange change) {
+    addedObjects.add(change);
+  }
+
+  void removeObject(InstanceChange change) {
+    removedObjects.add(change);
+  }
+
+  public List<ParameterChange> getParameterChanges() {
+    return Collections.unmodifiableList(parameters);
+  }
+
+  public List<InstanceChange> getAddedInstances() {
+    return Collections.unmodifiableList(added);
+  }
+
+  public List<InstanceChange> getDeletedInstances() {
+    return Collections.unmodifiableList(deleted);
+  }
+
+  /**
+   * @return the single-instance objects present only in the second tree,
+   *         e.g. "Device.DSL."
+   */
+  public List<InstanceChange> getAddedObjects() {
+    return Collections.unmodifiableList(addedObjects);
+  }
+
+  /**
+   * @return the single-instance objects present only in the first tree
+   */
+  public List<InstanceChange> getRemovedObjects() {
+    return Collections.unmodifiableList(removedObjects);
+  }
+
+  /**
+   * @return true if the trees are equal
+   */
+  public boolean isEmpty() {
+    return parameters.isEmpty() && added.isEmpty() && deleted.isEmpty()
+           && addedObjects.isEmpty() && removedObjects.isEmpty();
+  }
+
+  /**
+   * @return the total number of changes
+   */
+  public int size() {
+    return parameters.size() + added.size() + deleted.size() + addedObjects.size() + removedObjects.size();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder("ChangeSet");
+    for (InstanceChange change : added) {
+      text.append("\n+ ").append(change);
+    }
+    for (InstanceChange change : addedObjects) {
+      text.append("\n+ ").append(change);
+    }
+    for (InstanceChange change : deleted) {
+      text.append("\n- ").append(change);
+    }
+    for (InstanceChange change : removedObjects) {
+      text.append("\n- ").append(change);
+    }
+    for (ParameterChange change : parameters) {
+      text.append("\n  ").append(change);
+    }
+    return text.toString();
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.diff;
+
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+
+/**
+ * A table row or a single-instance object present in only one of two trees.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class InstanceChange {
+
+  private final CompiledPath path;
+  private final int[] instances;
+
+  InstanceChange(CompiledPath path, int[] instances) {
+    this.path = path;
+    this.instances = instances;
+  }
+
+  /**
+   * @return the object instance path, e.g. "Device.Hosts.Host.3." or
+   *         "Device.DSL."
+   */
+  public String getPath() {
+    return path.format(instances);
+  }
+
+  /**
+   * @return the compiled object path template, e.g. "Device.Hosts.Host.{i}."
+   */
+  public CompiledPath getCompiledPath() {
+    return path;
+  }
+
+  /**
+   * @return the instance numbers bound to the path template
+   */
+  public int[] getInstances() {
+    return instances.clone();
+  }
+
+  int[] instances() {
+    return instances;
+  }
+
+  public ObjectDescriptor<?> getObject() {
+    return path.getObject();
+  }
+
+  @Override
+  public String toString() {
+    return getPath();
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.diff;
+
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * A parameter whose value differs between two trees.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ParameterChange {
+
+  private final CompiledPath path;
+  private final int[] instances;
+  private final Object oldValue;
+  private final Object newValue;
+
+  ParameterChange(CompiledPath path, int[] instances, Object oldValue, Object newValue) {
+    this.path = path;
+    this.instances = instances;
+    this.oldValue = oldValue;
+    this.newValue = newValue;
+  }
+
+  /**
+   * @return the parameter path, e.g. "Device.Hosts.Host.3.Active"
+   */
+  public String getPath() {
+    return path.format(instances);
+  }
+
+  /**
+   * @return the compiled path template, e.g. "Device.Hosts.Host.{i}.Active"
+   */
+  public CompiledPath getCompiledPath() {
+    return path;
+  }
+
+  /**
+   * @return the instance numbers bound to the path template
+   */
+  public int[] getInstances() {
+    return instances.clone();
+  }
+
+  int[] instances() {
+    return instances;
+  }
+
+  public ParameterDescriptor getParameter() {
+    return path.getParameter();
+  }
+
+  /**
+   * @return the value in the first tree, null if not set
+   */
+  public Object getOldValue() {
+    return oldValue;
+  }
+
+  /**
+   * @return the value in the second tree, null if not set
+   */
+  public Object getNewValue() {
+    return newValue;
+  }
+
+  @Override
+  public String toString() {
+    return getPath() + " " + Values.text(oldValue) + " -> " + Values.text(newValue);
+  }
+
+}
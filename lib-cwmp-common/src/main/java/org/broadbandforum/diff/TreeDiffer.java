@@ -0,0 +1,426 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.diff;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * Computes the differences between two trees of the same data model, e.g.
+ * the last known and the just reported {@code Device} of a CPE, and applies
+ * them to a tree.
+ * <p>
+ * Both trees are walked together through the generated object descriptors.
+ * Subtrees, tables and values that are the same instance in both trees are
+ * skipped without being visited, so a tree built by copying only the changed
+ * paths of its predecessor is compared in time proportional to the changes.
+ * Parameter values are compared with {@link Values#equal(Object, Object)}.
+ * <p>
+ * Table rows are matched by instance number if both tables are
+ * {@link InstanceTable}s. Otherwise rows are matched by their first
+ * {@code @CWMPUnique} key that is set, and rows without a key by position.
+ * Matched and deleted rows are addressed by their instance number in the
+ * first tree; a row added to a table that is not an instance table is
+ * numbered after the last row of the first tree.
+ * <p>
+ * Differs are thread safe. Use {@link #of(Class)} to obtain the shared differ
+ * of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class TreeDiffer {
+
+  private static final Map<Metamodel, TreeDiffer> DIFFERS = new ConcurrentHashMap<>();
+
+  private final PathResolver resolver;
+  /**
+   * The compiled path of each object and of each of its parameters, by
+   * ordinal.
+   */
+  private final Map<ObjectDescriptor<?>, CompiledPath> objectPaths = new ConcurrentHashMap<>();
+  private final Map<ObjectDescriptor<?>, CompiledPath[]> parameterPaths = new ConcurrentHashMap<>();
+
+  public TreeDiffer(PathResolver resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared differ of the data model
+   */
+  public static TreeDiffer of(Class<?> type) {
+    return DIFFERS.computeIfAbsent(Metamodel.of(type), metamodel -> new TreeDiffer(PathResolver.of(type)));
+  }
+
+  /**
+   * @param before the first tree, e.g. the last known state
+   * @param after  the second tree, e.g. the reported state
+   * @return the changes turning the first tree into the second
+   * @throws IllegalArgumentException if the trees are not root objects of this
+   *                                  data model
+   */
+  public ChangeSet diff(Object before, Object after) {
+    ObjectDescriptor<?> root = rootOf(before);
+    if (rootOf(after) != root) {
+      throw new IllegalArgumentException("Cannot compare " + before.getClass().getName()
+                                         + " with " + after.getClass().getName());
+    }
+    ChangeSet changes = new ChangeSet();
+    Walk walk = new Walk(changes, root.isMultiInstance() ? 1 : 0);
+    if (before != after) {
+      walk.object(root, before, after);
+    }
+    return changes;
+  }
+
+  /**
+   * Apply a change set to a tree: create the added rows and objects, set the
+   * changed parameters and remove the deleted rows and objects. Applied to the
+   * first tree of {@link #diff(Object, Object)} it yields a tree with the same
+   * objects, rows and parameter values as the second; the new values are
+   * shared, not copied.
+   *
+   * @param root    the root entity
+   * @param changes the changes
+   * @throws IllegalArgumentException if a changed parameter cannot be set
+   */
+  public void patch(Object root, ChangeSet changes) {
+    rootOf(root);
+    for (InstanceChange change : changes.getAddedInstances()) {
+      change.getCompiledPath().createInstances(root, change.instances());
+    }
+    for (InstanceChange change : changes.getAddedObjects()) {
+      change.getCompiledPath().createInstances(root, change.instances());
+    }
+    for (ParameterChange change : changes.getParameterChanges()) {
+      CompiledPath path = change.getCompiledPath();
+      Object value = change.getNewValue();
+      if (value != null || path.getValue(root, change.instances()) != null) {
+        path.putValue(root, change.instances(), value);
+      }
+    }
+    // Last row first, so that positional instance numbers stay valid.
+    List<InstanceChange> deleted = changes.getDeletedInstances();
+    for (int i = deleted.size() - 1; i >= 0; i--) {
+      deleted.get(i).getCompiledPath().deleteInstance(root, deleted.get(i).instances());
+    }
+    for (InstanceChange change : changes.getRemovedObjects()) {
+      change.getCompiledPath().deleteObject(root, change.instances());
+    }
+  }
+
+  private ObjectDescriptor<?> rootOf(Object tree) {
+    Metamodel metamodel = resolver.getMetamodel();
+    ObjectDescriptor<?> object = metamodel.getObject(tree.getClass());
+    if (object != metamodel.getRoot()) {
+      throw new IllegalArgumentException(tree.getClass().getName() + " is not the root object of " + metamodel);
+    }
+    return object;
+  }
+
+  private CompiledPath objectPath(ObjectDescriptor<?> object) {
+    return objectPaths.computeIfAbsent(object, o -> resolver.compile(o.getPath()));
+  }
+
+  private CompiledPath[] parameterPaths(ObjectDescriptor<?> object) {
+    CompiledPath[] paths = parameterPaths.get(object);
+    if (paths == null) {
+      paths = parameterPaths.computeIfAbsent(object, o -> {
+        List<ParameterDescriptor> parameters = o.getParameters();
+        CompiledPath[] compiled = new CompiledPath[parameters.size()];
+        for (ParameterDescriptor parameter : parameters) {
+          compiled[parameter.getOrdinal()] = resolver.compile(o.getPath() + parameter.getName());
+        }
+        return compiled;
+      });
+    }
+    return paths;
+  }
+
+  /**
+   * The state of one diff: the change set and the instance numbers bound
+   * along the current path.
+   */
+  private final class Walk {
+
+    private final ChangeSet changes;
+    private int[] instances = new int[8];
+    private int depth;
+
+    Walk(ChangeSet changes, int rootInstances) {
+      this.changes = changes;
+      // A multi-instance root consumes an instance number of its own.
+      Arrays.fill(instances, 0, rootInstances, 1);
+      this.depth = rootInstances;
+    }
+
+    private void push(int instance) {
+      if (depth == instances.length) {
+        instances = Arrays.copyOf(instances, depth << 1);
+      }
+      instances[depth++] = instance;
+    }
+
+    private int[] bound() {
+      return Arrays.copyOf(instances, depth);
+    }
+
+    /**
+     * Compare two distinct, non-null instances of an object.
+     */
+    void object(ObjectDescriptor<?> object, Object before, Object after) {
+      CompiledPath[] paths = parameterPaths(object);
+      int[] bound = null;
+      for (int i = 0; i < paths.length; i++) {
+        Object oldValue = object.getValue(before, i);
+        Object newValue = object.getValue(after, i);
+        if (!Values.equal(oldValue, newValue)) {
+          if (bound == null) {
+            bound = bound();
+          }
+          changes.addParameter(new ParameterChange(paths[i], bound, oldValue, newValue));
+        }
+      }
+      for (ChildDescriptor child : object.getChildren()) {
+        Object oldChild = object.getObject(before, child.getOrdinal());
+        Object newChild = object.getObject(after, child.getOrdinal());
+        ObjectDescriptor<?> target = child.getObject();
+        if (oldChild == newChild || target == null) {
+          continue;
+        }
+        if (child.isTable()) {
+          table(target, (Collection<?>) oldChild, (Collection<?>) newChild);
+        } else if (oldChild == null) {
+          addedObject(target, newChild);
+        } else if (newChild == null) {
+          changes.removeObject(new InstanceChange(objectPath(target), bound()));
+          removed(target, oldChild);
+        } else {
+          object(target, oldChild, newChild);
+        }
+      }
+    }
+
+    /**
+     * List the parameters of an object that exists only in the second tree.
+     */
+    private void added(ObjectDescriptor<?> object, Object after) {
+      CompiledPath[] paths = parameterPaths(object);
+      int[] bound = null;
+      for (int i = 0; i < paths.length; i++) {
+        Object value = object.getValue(after, i);
+        if (value != null) {
+          if (bound == null) {
+            bound = bound();
+          }
+          changes.addParameter(new ParameterChange(paths[i], bound, null, value));
+        }
+      }
+      for (ChildDescriptor child : object.getChildren()) {
+        Object value = object.getObject(after, child.getOrdinal());
+        ObjectDescriptor<?> target = child.getObject();
+        if (value == null || target == null) {
+          continue;
+        }
+        if (child.isTable()) {
+          Collection<?> table = (Collection<?>) value;
+          int position = 0;
+          for (Object row : table) {
+            position++;
+            addedRow(target, row, table instanceof InstanceTable
+                                  ? ((InstanceTable<?>) table).instanceNumberOf(row) : position);
+          }
+        } else {
+          addedObject(target, value);
+        }
+      }
+    }
+
+    private void addedObject(ObjectDescriptor<?> object, Object after) {
+      changes.addObject(new InstanceChange(objectPath(object), bound()));
+      added(object, after);
+    }
+
+    private void addedRow(ObjectDescriptor<?> object, Object row, int instance) {
+      push(instance);
+      changes.addInstance(new InstanceChange(objectPath(object), bound()));
+      added(object, row);
+      depth--;
+    }
+
+    /**
+     * List the parameters and rows of a single-instance object that exists
+     * only in the first tree as cleared.
+     */
+    private void removed(ObjectDescriptor<?> object, Object before) {
+      CompiledPath[] paths = parameterPaths(object);
+      int[] bound = null;
+      for (int i = 0; i < paths.length; i++) {
+        Object value = object.getValue(before, i);
+        if (value != null) {
+          if (bound == null) {
+            bound = bound();
+          }
+          changes.addParameter(new ParameterChange(paths[i], bound, value, null));
+        }
+      }
+      for (ChildDescriptor child : object.getChildren()) {
+        Object value = object.getObject(before, child.getOrdinal());
+        ObjectDescriptor<?> target = child.getObject();
+        if (value == null || target == null) {
+          continue;
+        }
+        if (child.isTable()) {
+          Collection<?> table = (Collection<?>) value;
+          int position = 0;
+          for (Object row : table) {
+            position++;
+            deletedRow(target, table instanceof InstanceTable
+                               ? ((InstanceTable<?>) table).instanceNumberOf(row) : position);
+          }
+        } else {
+          removed(target, value);
+        }
+      }
+    }
+
+    private void deletedRow(ObjectDescriptor<?> object, int instance) {
+      push(instance);
+      changes.deleteInstance(new InstanceChange(objectPath(object), bound()));
+      depth--;
+    }
+
+    private void matchedRow(ObjectDescriptor<?> object, Object before, Object after, int instance) {
+      if (before != after) {
+        push(instance);
+        object(object, before, after);
+        depth--;
+      }
+    }
+
+    private void table(ObjectDescriptor<?> rows, Collection<?> before, Collection<?> after) {
+      if (before == null || before.isEmpty()) {
+        if (after != null) {
+          int position = 0;
+          for (Object row : after) {
+            position++;
+            addedRow(rows, row, after instanceof InstanceTable
+                                ? ((InstanceTable<?>) after).instanceNumberOf(row) : position);
+          }
+        }
+      } else if (after == null || after.isEmpty()) {
+        int position = 0;
+        for (Object row : before) {
+          position++;
+          deletedRow(rows, before instanceof InstanceTable
+                           ? ((InstanceTable<?>) before).instanceNumberOf(row) : position);
+        }
+      } else if (before instanceof InstanceTable && after instanceof InstanceTable) {
+        byInstanceNumber(rows, (InstanceTable<?>) before, (InstanceTable<?>) after);
+      } else {
+        byKey(rows, before, after);
+      }
+    }
+
+    private void byInstanceNumber(ObjectDescriptor<?> rows, InstanceTable<?> before, InstanceTable<?> after) {
+      for (Object row : after) {
+        int instance = after.instanceNumberOf(row);
+        Object old = before.get(instance);
+        if (old == null) {
+          addedRow(rows, row, instance);
+        } else {
+          matchedRow(rows, old, row, instance);
+        }
+      }
+      for (Object row : before) {
+        int instance = before.instanceNumberOf(row);
+        if (after.get(instance) == null) {
+          deletedRow(rows, instance);
+        }
+      }
+    }
+
+    private void byKey(ObjectDescriptor<?> rows, Collection<?> before, Collection<?> after) {
+      int constraint = keyConstraint(rows, after.iterator().next());
+      Object[] oldRows = before.toArray();
+      int[] oldNumbers = new int[oldRows.length];
+      Map<Object, Integer> oldKeys = new HashMap<>(oldRows.length * 2);
+      for (int i = 0; i < oldRows.length; i++) {
+        oldNumbers[i] = before instanceof InstanceTable
+                        ? ((InstanceTable<?>) before).instanceNumberOf(oldRows[i]) : i + 1;
+        Object key = constraint < 0 ? null : rows.getUniqueKey(oldRows[i], constraint);
+        if (key != null) {
+          oldKeys.putIfAbsent(key, i);
+        }
+      }
+      boolean[] matched = new boolean[oldRows.length];
+      int next = before instanceof InstanceTable
+                 ? ((InstanceTable<?>) before).getNextInstanceNumber()
+                 : oldRows.length + 1;
+      int position = 0;
+      for (Object row : after) {
+        Object key = constraint < 0 ? null : rows.getUniqueKey(row, constraint);
+        Integer index = key == null ? null : oldKeys.remove(key);
+        if (index == null && key == null && position < oldRows.length && !matched[position]
+            && (constraint < 0 || rows.getUniqueKey(oldRows[position], constraint) == null)) {
+          // Rows without a key are matched by position.
+          index = position;
+        }
+        position++;
+        if (index == null) {
+          addedRow(rows, row, next++);
+        } else {
+          matched[index] = true;
+          matchedRow(rows, oldRows[index], row, oldNumbers[index]);
+        }
+      }
+      for (int i = 0; i < oldRows.length; i++) {
+        if (!matched[i]) {
+          deletedRow(rows, oldNumbers[i]);
+        }
+      }
+    }
+
+    /**
+     * @return the first unique constraint whose key is set on the row, -1 if
+     *         none
+     */
+    private int keyConstraint(ObjectDescriptor<?> rows, Object row) {
+      for (int i = 0; i < rows.getUniqueConstraints().size(); i++) {
+        if (rows.getUniqueKey(row, i) != null) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+  }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.Enumerations;
+
+/**
+ * A cached, thread-safe JAXB context over one entity class and the classes
+ * reachable from it, with pooled marshallers and unmarshallers.
+ * <p>
+ * Creating a JAXBContext introspects the whole class graph below the bound
+ * class, which for {@code Device.} takes seconds. Contexts are therefore
+ * created once per class and shared. Binding a subtree, e.g.
+ * {@code Device.WiFi.}, only introspects the classes of that subtree. Use
+ * {@link #warm(Class[])} to create contexts in the background ahead of their
+ * first use.
+ * <p>
+ * Unmarshalled string enumeration parameters hold the canonical instances of
+ * their values, see {@link Enumerations}.
+ *
+ * @param <T> the bound entity type
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class CWMPContext<T> {
+
+  /**
+   * Contexts by bound class. A context is created by the first thread that
+   * runs its task; other threads wait for it.
+   */
+  private static final ConcurrentMap<Class<?>, FutureTask<CWMPContext<?>>> CONTEXTS = new ConcurrentHashMap<>();
+  /**
+   * The object descriptor of each unmarshalled class, null for classes that
+   * are not CWMP objects or have no enumeration parameters.
+   */
+  private static final ClassValue<ObjectDescriptor<?>> ENUMERATION_OBJECTS = new ClassValue<ObjectDescriptor<?>>() {
+    @Override
+    protected ObjectDescriptor<?> computeValue(Class<?> type) {
+      if (!type.isAnnotationPresent(CWMPObject.class)) {
+        return null;
+      }
+      ObjectDescriptor<?> object = Metamodel.describe(type);
+      return object.getEnumerations().isEmpty() ? null : object;
+    }
+  };
+  /**
+   * Interns the enumeration parameters of each unmarshalled CWMP object.
+   */
+  private static final Unmarshaller.Listener ENUMERATIONS = new Unmarshaller.Listener() {
+    @Override
+    public void afterUnmarshal(Object target, Object parent) {
+      ObjectDescriptor<?> object = ENUMERATION_OBJECTS.get(target.getClass());
+      if (object == null) {
+        return;
+      }
+      for (ParameterDescriptor parameter : object.getEnumerations()) {
+        Object value = object.getValue(target, parameter.getOrdinal());
+        if (value != null) {
+          object.setValue(target, parameter.getOrdinal(), Enumerations.intern((String) value));
+        }
+      }
+    }
+  };
+
+  private final Class<T> type;
+  private final JAXBContext context;
+  /**
+   * Idle marshallers and unmarshallers. Neither is thread-safe; each is used
+   * by one thread at a time and returned after use.
+   */
+  private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+  private final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
+
+  private CWMPContext(Class<T> type) throws JAXBException {
+    this.type = type;
+    this.context = JAXBContext.newInstance(type);
+  }
+
+  /**
+   * Get the context bound to an entity class, creating it on first use.
+   *
+   * @param <T>  the entity type
+   * @param type the root object or any other entity class
+   * @return the shared context
+   * @throws IllegalArgumentException if JAXB cannot bind the class
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> CWMPContext<T> of(Class<T> type) {
+    FutureTask<CWMPContext<?>> task = task(type);
+    task.run();
+    try {
+      return (CWMPContext<T>) task.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while creating the JAXB context for " + type.getName(), ex);
+    } catch (ExecutionException ex) {
+      CONTEXTS.remove(type, task);
+      throw new IllegalArgumentException("Failed to create the JAXB context for " + type.getName(), ex.getCause());
+    }
+  }
+
+  /**
+   * Get the context bound to a subtree of a data model.
+   *
+   * @param root any entity class of the data model, e.g. {@code Device.class}
+   * @param path the object path template, e.g. "Device.WiFi."
+   * @return the shared context of the object class
+   * @throws IllegalArgumentException if the path is not an object of the data
+   *                                  model
+   */
+  public static CWMPContext<?> of(Class<?> root, String path) {
+    ObjectDescriptor<?> object = Metamodel.of(root).getObject(path);
+    if (object == null) {
+      throw new IllegalArgumentException("No CWMP object " + path + " in " + Metamodel.of(root));
+    }
+    return of(object.getType());
+  }
+
+  /**
+   * Create the contexts of the given classes on a background daemon thread.
+   * A later {@link #of(Class)} waits for a context still being created
+   * instead of creating it again.
+   *
+   * @param types the entity classes to bind
+   */
+  public static void warm(Class<?>... types) {
+    FutureTask<?>[] tasks = new FutureTask<?>[types.length];
+    for (int i = 0; i < types.length; i++) {
+      tasks[i] = task(types[i]);
+    }
+    Thread thread = new Thread(() -> {
+      for (FutureTask<?> task : tasks) {
+        task.run();
+      }
+    }, "cwmp-context-warm");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private static FutureTask<CWMPContext<?>> task(Class<?> type) {
+    return CONTEXTS.computeIfAbsent(type, key -> new FutureTask<>(() -> new CWMPContext<>(key)));
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * @return the shared JAXB context, e.g. to create a Binder or a
+   *         JAXBIntrospector
+   */
+  public JAXBContext getContext() {
+    return context;
+  }
+
+  /**
+   * @param value the entity instance
+   * @param out   the output stream, written as UTF-8
+   * @throws JAXBException if the value cannot be marshalled
+   */
+  public void marshal(T value, OutputStream out) throws JAXBException {
+    Marshaller marshaller = borrowMarshaller();
+    marshaller.marshal(value, out);
+    marshallers.offer(marshaller);
+  }
+
+  /**
+   * @param value  the entity instance
+   * @param writer the writer
+   * @throws JAXBException if the value cannot be marshalled
+   */
+  public void marshal(T value, Writer writer) throws JAXBException {
+    Marshaller marshaller = borrowMarshaller();
+    marshaller.marshal(value, writer);
+    marshallers.offer(marshaller);
+  }
+
+  /**
+   * @param in the XML document
+   * @return the entity instance
+   * @throws JAXBException if the document cannot be unmarshalled
+   */
+  public T unmarshal(InputStream in) throws JAXBException {
+    return unmarshal(new StreamSource(in));
+  }
+
+  /**
+   * @param reader the XML document
+   * @return the entity instance
+   * @throws JAXBException if the document cannot be unmarshalled
+   */
+  public T unmarshal(Reader reader) throws JAXBException {
+    return unmarshal(new StreamSource(reader));
+  }
+
+  /**
+   * Unmarshal by declared type, so the document element need not match the
+   * {@code @XmlRootElement} name of the bound class.
+   */
+  private T unmarshal(StreamSource source) throws JAXBException {
+    Unmarshaller unmarshaller = unmarshallers.poll();
+    if (unmarshaller == null) {
+      unmarshaller = context.createUnmarshaller();
+      unmarshaller.setListener(ENUMERATIONS);
+    }
+    T value = unmarshaller.unmarshal(source, type).getValue();
+    unmarshallers.offer(unmarshaller);
+    return value;
+  }
+
+  /**
+   * @return an idle marshaller, or a new one if none is idle. A marshaller
+   *         that throws is dropped instead of being returned to the pool.
+   */
+  private Marshaller borrowMarshaller() throws JAXBException {
+    Marshaller marshaller = marshallers.poll();
+    return marshaller == null ? context.createMarshaller() : marshaller;
+  }
+
+  @Override
+  public String toString() {
+    return "CWMPContext[" + type.getName() + "]";
+  }
+
+}
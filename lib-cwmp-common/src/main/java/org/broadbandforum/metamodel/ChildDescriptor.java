@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+/**
+ * Describes a child object of an object: either a single instance object
+ * (e.g. {@code Device.WiFi.}) or a multi-instance table (e.g.
+ * {@code Device.WiFi.Radio.{i}.}).
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ChildDescriptor {
+
+  private final int ordinal;
+  private final String name;
+  private final String field;
+  private final Class<?> type;
+  private final boolean table;
+  private final String access;
+  private final int minEntries;
+  private final int maxEntries;
+  /**
+   * The descriptor of the child type. Linked by the owning Metamodel.
+   */
+  private ObjectDescriptor<?> object;
+
+  /**
+   * @param ordinal    the index of this child in the owning object
+   * @param name       the path segment, e.g. "Radio"
+   * @param field      the Java field name, e.g. "radios"
+   * @param type       the child entity class
+   * @param table      true if this is a multi-instance table
+   * @param access     "readWrite" if instances may be added or deleted
+   * @param minEntries the @CWMPParameter minEntries value
+   * @param maxEntries the @CWMPParameter maxEntries value
+   */
+  public ChildDescriptor(int ordinal, String name, String field, Class<?> type, boolean table,
+                         String access, int minEntries, int maxEntries) {
+    this.ordinal = ordinal;
+    this.name = name;
+    this.field = field;
+    this.type = type;
+    this.table = table;
+    this.access = access;
+    this.minEntries = minEntries;
+    this.maxEntries = maxEntries;
+  }
+
+  public int getOrdinal() {
+    return ordinal;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getField() {
+    return field;
+  }
+
+  public Class<?> getType() {
+    return type;
+  }
+
+  public boolean isTable() {
+    return table;
+  }
+
+  public String getAccess() {
+    return access;
+  }
+
+  /**
+   * @return true if table rows may be added or deleted by the ACS
+   */
+  public boolean isWritable() {
+    return "readWrite".equals(access);
+  }
+
+  public int getMinEntries() {
+    return minEntries;
+  }
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * @return the descriptor of the child type
+   */
+  public ObjectDescriptor<?> getObject() {
+    return object;
+  }
+
+  void setObject(ObjectDescriptor<?> object) {
+    this.object = object;
+  }
+
+  @Override
+  public String toString() {
+    return table ? name + ".{i}." : name + ".";
+  }
+
+}
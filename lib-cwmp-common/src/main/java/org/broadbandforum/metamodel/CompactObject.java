@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Collection;
+import java.util.function.Function;
+import org.broadbandforum.common.InstanceTable;
+
+/**
+ * Base class of the compact flavor of the entity classes.
+ * <p>
+ * When an entity module is compiled with {@code -Acwmp.compact=true} the
+ * {@code MetamodelProcessor} generates, next to each entity class, a compact
+ * class named after the entity with a trailing {@code Compact}, e.g.
+ * {@code HostCompact} for {@code Host}. It holds the {@code Long},
+ * {@code Integer}, {@code Boolean}, counter and {@code Dbm1000} parameters in
+ * primitive fields, records which parameters are set in a presence bitmask
+ * indexed by parameter ordinal, and offers the getters and setters of the
+ * entity. Child objects and tables hold compact objects, tables in an
+ * {@link InstanceTable} keeping their instance numbers.
+ * <p>
+ * The generated static {@code of(entity)} and {@code toEntity()} methods
+ * convert a whole tree from and to the JAXB entities. A counter without a
+ * value converts to null.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public abstract class CompactObject {
+
+  /**
+   * One bit per parameter ordinal below 64, set if the parameter has a value.
+   */
+  private long present;
+  /**
+   * The presence bits of the parameter ordinals from 64, null if the object
+   * has no more than 64 parameters.
+   */
+  private final long[] overflow;
+
+  /**
+   * @param parameters the number of parameters of the object
+   */
+  protected CompactObject(int parameters) {
+    this.overflow = parameters > 64 ? new long[(parameters - 1) >>> 6] : null;
+  }
+
+  /**
+   * @param ordinal the parameter ordinal
+   * @return true if the parameter has a value
+   */
+  public final boolean isSet(int ordinal) {
+    long bits = ordinal < 64 ? present : overflow[(ordinal >>> 6) - 1];
+    return (bits & 1L << ordinal) != 0;
+  }
+
+  /**
+   * @param ordinal the parameter ordinal
+   * @param set     true if the parameter has a value
+   */
+  protected final void mark(int ordinal, boolean set) {
+    if (ordinal < 64) {
+      present = set ? present | 1L << ordinal : present & ~(1L << ordinal);
+    } else if (set) {
+      overflow[(ordinal >>> 6) - 1] |= 1L << ordinal;
+    } else {
+      overflow[(ordinal >>> 6) - 1] &= ~(1L << ordinal);
+    }
+  }
+
+  /**
+   * Convert a table, keeping the instance numbers of an
+   * {@link InstanceTable} and numbering the rows of any other collection by
+   * position.
+   *
+   * @param <S>     the source row type
+   * @param <R>     the converted row type
+   * @param table   the table, may be null
+   * @param convert the row conversion
+   * @return the converted table, null if the table is null
+   */
+  protected static <S, R> InstanceTable<R> convert(Collection<S> table, Function<S, R> convert) {
+    if (table == null) {
+      return null;
+    }
+    InstanceTable<R> converted = new InstanceTable<>();
+    if (table instanceof InstanceTable) {
+      InstanceTable<S> instances = (InstanceTable<S>) table;
+      for (S row : table) {
+        converted.put(instances.instanceNumberOf(row), convert.apply(row));
+      }
+      converted.setNextInstanceNumber(instances.getNextInstanceNumber());
+    } else {
+      for (S row : table) {
+        converted.add(convert.apply(row));
+      }
+    }
+    return converted;
+  }
+
+}
@@ -0,0 +1,518 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.broadbandforum.common.InstanceTable;
+
+/**
+ * A path template compiled into a chain of generated field accessors, e.g.
+ * {@code Device.WiFi.Radio.{i}.Stats.BytesSent}.
+ * <p>
+ * Each {@code {i}} placeholder is bound at call time to an instance number
+ * taken, in order, from the {@code instances} array. An instance number
+ * placeholder on the root object (e.g. {@code STBService.{i}.}) addresses the
+ * root entity passed in by the caller and does not consume an instance
+ * number.
+ * <p>
+ * Compiled paths are immutable and thread safe. Obtain them from a
+ * {@link PathResolver}.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class CompiledPath {
+
+  /**
+   * Walk modes: find existing objects only, create missing single-instance
+   * objects, or also create missing table rows.
+   */
+  private static final int FIND = 0;
+  private static final int CREATE_OBJECTS = 1;
+  private static final int CREATE_ROWS = 2;
+
+  private final String template;
+  /**
+   * The object descriptor owning each step.
+   */
+  private final ObjectDescriptor<?>[] owners;
+  /**
+   * The child descriptor of each step.
+   */
+  private final ChildDescriptor[] steps;
+  /**
+   * The addressed object.
+   */
+  private final ObjectDescriptor<?> object;
+  /**
+   * The addressed parameter, null for object paths.
+   */
+  private final ParameterDescriptor parameter;
+  /**
+   * The number of instance numbers consumed by this path.
+   */
+  private final int instanceCount;
+  /**
+   * The index of the first instance number bound to a table step: 1 if the
+   * root object is multi-instance, otherwise 0.
+   */
+  private final int offset;
+  /**
+   * True if the addressed parameter is a unique key of a table row reached
+   * through the last step, whose table indexes must follow value changes.
+   */
+  private final boolean uniqueKey;
+  /**
+   * The template split at each {@code {i}} placeholder.
+   */
+  private final String[] fragments;
+
+  CompiledPath(String template, ObjectDescriptor<?>[] owners, ChildDescriptor[] steps,
+               ObjectDescriptor<?> object, ParameterDescriptor parameter) {
+    this.template = template;
+    this.owners = owners;
+    this.steps = steps;
+    this.object = object;
+    this.parameter = parameter;
+    ObjectDescriptor<?> root = steps.length > 0 ? owners[0] : object;
+    this.offset = root.isMultiInstance() ? 1 : 0;
+    int count = offset;
+    for (ChildDescriptor step : steps) {
+      if (step.isTable()) {
+        count++;
+      }
+    }
+    this.instanceCount = count;
+    this.uniqueKey = parameter != null
+                     && steps.length > 0
+                     && steps[steps.length - 1].isTable()
+                     && object.isUniqueKey(parameter);
+    this.fragments = template.split("\\{i\\}", -1);
+  }
+
+  /**
+   * @return the path template, e.g. "Device.WiFi.Radio.{i}.Stats.BytesSent"
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * @return the addressed object, or the object owning the addressed
+   *         parameter
+   */
+  public ObjectDescriptor<?> getObject() {
+    return object;
+  }
+
+  /**
+   * @return the child steps from the root to the addressed object, e.g.
+   *         WiFi, Radio and Stats for "Device.WiFi.Radio.{i}.Stats.BytesSent"
+   */
+  public List<ChildDescriptor> getSteps() {
+    return Collections.unmodifiableList(Arrays.asList(steps));
+  }
+
+  /**
+   * @return the addressed parameter, null for object paths
+   */
+  public ParameterDescriptor getParameter() {
+    return parameter;
+  }
+
+  /**
+   * @return true if this path addresses a parameter, false if it addresses
+   *         an object
+   */
+  public boolean isParameter() {
+    return parameter != null;
+  }
+
+  /**
+   * @return the number of instance numbers required to bind this path
+   */
+  public int getInstanceCount() {
+    return instanceCount;
+  }
+
+  /**
+   * Walk the accessor chain from the root to the addressed object.
+   *
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @return the addressed entity, null if any object or instance along the
+   *         path does not exist
+   */
+  public Object resolve(Object root, int[] instances) {
+    return walk(root, instances, null, steps.length, FIND);
+  }
+
+  /**
+   * Walk the accessor chain from the root to the addressed object, binding
+   * table rows by instance number or by alias.
+   *
+   * @param root the root entity
+   * @param path the parsed instance path
+   * @return the addressed entity, null if any object or instance along the
+   *         path does not exist
+   */
+  public Object resolve(Object root, InstancePath path) {
+    return walk(root, path.getInstances(), path.getAliases(), steps.length, FIND);
+  }
+
+  /**
+   * Walk the accessor chain from the root to the addressed object, creating
+   * missing single-instance objects along the way. Table rows are never
+   * created.
+   *
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @return the addressed entity, null if an instance along the path does not
+   *         exist
+   */
+  public Object create(Object root, int[] instances) {
+    return walk(root, instances, null, steps.length, CREATE_OBJECTS);
+  }
+
+  /**
+   * Walk the accessor chain from the root to the addressed object, creating
+   * missing single-instance objects and table rows along the way. A missing
+   * row is added to the table under the bound instance number.
+   *
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @return the addressed entity, null if an instance number is not positive
+   */
+  public Object createInstances(Object root, int[] instances) {
+    return walk(root, instances, null, steps.length, CREATE_ROWS);
+  }
+
+  /**
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @param aliases   the aliases bound to the table steps, may be null
+   * @param depth     the number of steps to walk
+   * @param mode      FIND, CREATE_OBJECTS or CREATE_ROWS
+   * @return the entity reached after the given number of steps, null if an
+   *         object or instance along the path does not exist
+   */
+  private Object walk(Object root, int[] instances, String[] aliases, int depth, int mode) {
+    Object current = root;
+    int instance = offset;
+    for (int i = 0; i < depth && current != null; i++) {
+      ChildDescriptor step = steps[i];
+      Object child = owners[i].getObject(current, step.getOrdinal());
+      if (step.isTable()) {
+        Object row = row((Collection<?>) child, step, instances, aliases, instance);
+        if (row == null && mode == CREATE_ROWS && (aliases == null || aliases[instance] == null)) {
+          row = createRow(current, owners[i], step, (Collection<?>) child, instances[instance]);
+        }
+        instance++;
+        current = row;
+      } else {
+        if (child == null && mode != FIND) {
+          child = step.getObject().newInstance();
+          owners[i].setObject(current, step.getOrdinal(), child);
+        }
+        current = child;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Add a new row to a table, converting the table collection into an
+   * instance table first.
+   *
+   * @return the new row, null if the instance number is not positive
+   */
+  @SuppressWarnings("unchecked")
+  private static Object createRow(Object owner, ObjectDescriptor<?> descriptor, ChildDescriptor step,
+                                  Collection<?> table, int instance) {
+    if (instance < 1) {
+      return null;
+    }
+    InstanceTable<Object> rows = InstanceTable.of((Collection<Object>) table);
+    if (rows != table) {
+      descriptor.setObject(owner, step.getOrdinal(), rows);
+    }
+    Object row = step.getObject().newInstance();
+    rows.put(instance, row);
+    return row;
+  }
+
+  private static Object row(Collection<?> table, ChildDescriptor step, int[] instances, String[] aliases, int index) {
+    return aliases == null || aliases[index] == null
+           ? Tables.row(table, instances[index])
+           : Tables.rowByAlias(table, step.getObject(), aliases[index]);
+  }
+
+  /**
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @return the parameter value, null if the value or any object along the
+   *         path does not exist
+   */
+  public Object getValue(Object root, int[] instances) {
+    return getValue(root, instances, null);
+  }
+
+  /**
+   * @param root the root entity
+   * @param path the parsed instance path, addressing rows by instance number
+   *             or by alias
+   * @return the parameter value, null if the value or any object along the
+   *         path does not exist
+   */
+  public Object getValue(Object root, InstancePath path) {
+    return getValue(root, path.getInstances(), path.getAliases());
+  }
+
+  private Object getValue(Object root, int[] instances, String[] aliases) {
+    requireParameter();
+    Object owner = walk(root, instances, aliases, steps.length, FIND);
+    return owner == null ? null : object.getValue(owner, parameter.getOrdinal());
+  }
+
+  /**
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @param value     the new parameter value
+   * @throws IllegalArgumentException if an instance along the path does not
+   *                                  exist
+   */
+  public void setValue(Object root, int[] instances, Object value) {
+    setValue(root, instances, null, value);
+  }
+
+  /**
+   * @param root  the root entity
+   * @param path  the parsed instance path, addressing rows by instance number
+   *              or by alias
+   * @param value the new parameter value
+   * @throws IllegalArgumentException if an instance along the path does not
+   *                                  exist
+   */
+  public void setValue(Object root, InstancePath path, Object value) {
+    setValue(root, path.getInstances(), path.getAliases(), value);
+  }
+
+  /**
+   * Set a parameter value, creating missing single-instance objects and table
+   * rows along the path as {@link #createInstances(Object, int[])} does.
+   *
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @param value     the new parameter value
+   * @throws IllegalArgumentException if an instance number is not positive
+   */
+  public void putValue(Object root, int[] instances, Object value) {
+    setValue(root, instances, null, value, CREATE_ROWS);
+  }
+
+  private void setValue(Object root, int[] instances, String[] aliases, Object value) {
+    setValue(root, instances, aliases, value, CREATE_OBJECTS);
+  }
+
+  private void setValue(Object root, int[] instances, String[] aliases, Object value, int mode) {
+    requireParameter();
+    Object owner;
+    Collection<?> table = null;
+    if (uniqueKey) {
+      // Hold on to the table of the row to update its unique indexes.
+      int last = steps.length - 1;
+      Object parent = walk(root, instances, aliases, last, mode);
+      if (parent != null) {
+        table = (Collection<?>) owners[last].getObject(parent, steps[last].getOrdinal());
+        owner = row(table, steps[last], instances, aliases, instanceCount - 1);
+        if (owner == null && mode == CREATE_ROWS) {
+          owner = createRow(parent, owners[last], steps[last], table, instances[instanceCount - 1]);
+          table = (Collection<?>) owners[last].getObject(parent, steps[last].getOrdinal());
+        }
+      } else {
+        owner = null;
+      }
+    } else {
+      owner = walk(root, instances, aliases, steps.length, mode);
+    }
+    if (owner == null) {
+      throw new IllegalArgumentException("No such object instance for " + template);
+    }
+    object.setValue(owner, parameter.getOrdinal(), value);
+    object.markChanged(owner, parameter.getOrdinal());
+    if (table instanceof InstanceTable) {
+      ((InstanceTable<?>) table).reindex(owner);
+    }
+  }
+
+  /**
+   * Remove the addressed table row and its subtree.
+   *
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @return the removed row, null if it does not exist
+   * @throws IllegalStateException if this path does not address a table row
+   */
+  public Object deleteInstance(Object root, int[] instances) {
+    int last = steps.length - 1;
+    if (parameter != null || last < 0 || !steps[last].isTable()) {
+      throw new IllegalStateException(template + " is not a table row path");
+    }
+    Object parent = walk(root, instances, null, last, FIND);
+    if (parent == null) {
+      return null;
+    }
+    Collection<?> table = (Collection<?>) owners[last].getObject(parent, steps[last].getOrdinal());
+    int instance = instances[instanceCount - 1];
+    if (table instanceof InstanceTable) {
+      return ((InstanceTable<?>) table).removeInstance(instance);
+    }
+    if (table == null || instance < 1 || instance > table.size()) {
+      return null;
+    }
+    if (table instanceof List) {
+      return ((List<?>) table).remove(instance - 1);
+    }
+    Iterator<?> iterator = table.iterator();
+    for (int i = 1; i < instance; i++) {
+      iterator.next();
+    }
+    Object row = iterator.next();
+    iterator.remove();
+    return row;
+  }
+
+  /**
+   * Remove the addressed single-instance object and its subtree.
+   *
+   * @param root      the root entity
+   * @param instances the instance numbers bound to the table steps
+   * @return the removed object, null if it does not exist
+   * @throws IllegalStateException if this path does not address a
+   *                               single-instance object
+   */
+  public Object deleteObject(Object root, int[] instances) {
+    int last = steps.length - 1;
+    if (parameter != null || last < 0 || steps[last].isTable()) {
+      throw new IllegalStateException(template + " is not a single-instance object path");
+    }
+    Object parent = walk(root, instances, null, last, FIND);
+    if (parent == null) {
+      return null;
+    }
+    Object object = owners[last].getObject(parent, steps[last].getOrdinal());
+    if (object != null) {
+      owners[last].setObject(parent, steps[last].getOrdinal(), null);
+    }
+    return object;
+  }
+
+  /**
+   * Bind instance numbers into the template without resolving them.
+   *
+   * @param instances the instance numbers bound to the table steps
+   * @return the instance path, e.g. "Device.WiFi.Radio.2.Stats.BytesSent"
+   */
+  public String format(int[] instances) {
+    StringBuilder formatted = new StringBuilder(template.length() + 16).append(fragments[0]);
+    for (int i = 1; i < fragments.length; i++) {
+      formatted.append(instances[i - 1]).append(fragments[i]);
+    }
+    return formatted.toString();
+  }
+
+  /**
+   * Translate a path into an equivalent path addressing every table row by
+   * instance number, e.g. {@code Device.IP.Interface.[wan1].Enable} into
+   * {@code Device.IP.Interface.3.Enable}.
+   *
+   * @param root the root entity
+   * @param path the parsed instance path
+   * @return the instance number path, null if any object or instance along the
+   *         path does not exist
+   */
+  public String toInstancePath(Object root, InstancePath path) {
+    return format(root, path, false);
+  }
+
+  /**
+   * Translate a path into an equivalent path addressing every table row by
+   * alias, e.g. {@code Device.IP.Interface.3.Enable} into
+   * {@code Device.IP.Interface.[wan1].Enable}. Rows without an alias keep
+   * their instance number.
+   *
+   * @param root the root entity
+   * @param path the parsed instance path
+   * @return the alias path, null if any object or instance along the path
+   *         does not exist
+   */
+  public String toAliasPath(Object root, InstancePath path) {
+    return format(root, path, true);
+  }
+
+  private String format(Object root, InstancePath path, boolean alias) {
+    int[] instances = path.getInstances();
+    String[] aliases = path.getAliases();
+    StringBuilder formatted = new StringBuilder(template.length() + 16).append(fragments[0]);
+    int instance = 0;
+    if (offset > 0) {
+      // The root instance is not resolved; keep it as given.
+      appendSegment(formatted, instances[0], aliases == null ? null : aliases[0]);
+      formatted.append(fragments[++instance]);
+    }
+    Object current = root;
+    for (int i = 0; i < steps.length && current != null; i++) {
+      ChildDescriptor step = steps[i];
+      Object child = owners[i].getObject(current, step.getOrdinal());
+      if (step.isTable()) {
+        Collection<?> table = (Collection<?>) child;
+        current = row(table, step, instances, aliases, instance);
+        if (current != null) {
+          appendSegment(formatted, Tables.instanceNumber(table, current),
+                        alias ? Tables.aliasOf(step.getObject(), current) : null);
+          formatted.append(fragments[++instance]);
+        }
+      } else {
+        current = child;
+      }
+    }
+    return current == null ? null : formatted.toString();
+  }
+
+  private static void appendSegment(StringBuilder formatted, int instance, String alias) {
+    if (alias == null) {
+      formatted.append(instance);
+    } else {
+      formatted.append('[').append(alias).append(']');
+    }
+  }
+
+  private void requireParameter() {
+    if (parameter == null) {
+      throw new IllegalStateException(template + " is not a parameter path");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.broadbandforum.common.StatsCounter32;
+import org.broadbandforum.common.StatsCounter64;
+
+/**
+ * Computes the deltas of all statistics counters between two snapshots of an
+ * entity, e.g. two readings of {@code Device.IP.Interface.{i}.}.
+ * <p>
+ * The counters are the {@link StatsCounter32} and {@link StatsCounter64}
+ * parameters of the entity and of its single-instance descendants, and the
+ * {@code Long} parameters of its {@code Stats} objects. Tables are not
+ * descended into: compute the deltas of each row on its own, pairing rows by
+ * instance number.
+ * <p>
+ * A counter lower than its previous value either wrapped around through zero
+ * or was reset. It is taken as a rollover if the wrapped delta is at most half
+ * the counter range, otherwise as a reset. A {@code Long} counter whose two
+ * values fit in 32 bits is assumed to wrap at 2^32.
+ * <p>
+ * Counter values are read without boxing and the results may be reused, so a
+ * computation does not allocate. Engines are immutable and thread safe.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class CounterDeltaEngine {
+
+  private static final Map<Class<?>, CounterDeltaEngine> ENGINES = new ConcurrentHashMap<>();
+
+  /**
+   * The counter width of Long parameters, which is not known.
+   */
+  private static final int UNKNOWN_WIDTH = 0;
+
+  private final ObjectDescriptor<?> root;
+  /**
+   * The objects holding counters and their ancestors up to the root, parents
+   * first. Index 0 is the root.
+   */
+  private final ObjectDescriptor<?>[] objects;
+  /**
+   * The index of the parent of each object, -1 for the root.
+   */
+  private final int[] parents;
+  /**
+   * The child ordinal of each object in its parent.
+   */
+  private final int[] ordinals;
+  private final int[] counterObjects;
+  private final ParameterDescriptor[] counters;
+  private final int[] widths;
+  private final String[] names;
+
+  private CounterDeltaEngine(ObjectDescriptor<?> root) {
+    this.root = root;
+    List<ObjectDescriptor<?>> objectList = new ArrayList<>();
+    List<Integer> parentList = new ArrayList<>();
+    List<Integer> ordinalList = new ArrayList<>();
+    List<Integer> counterObjectList = new ArrayList<>();
+    List<ParameterDescriptor> counterList = new ArrayList<>();
+    List<Integer> widthList = new ArrayList<>();
+    List<String> nameList = new ArrayList<>();
+    collect(root, -1, -1, "", objectList, parentList, ordinalList, counterObjectList, counterList, widthList, nameList);
+    this.objects = objectList.toArray(new ObjectDescriptor<?>[0]);
+    this.parents = toArray(parentList);
+    this.ordinals = toArray(ordinalList);
+    this.counterObjects = toArray(counterObjectList);
+    this.counters = counterList.toArray(new ParameterDescriptor[0]);
+    this.widths = toArray(widthList);
+    this.names = nameList.toArray(new String[0]);
+  }
+
+  /**
+   * @param type the entity class
+   * @return the shared engine of the entity class
+   * @throws IllegalArgumentException if the class is not a described entity
+   */
+  public static CounterDeltaEngine of(Class<?> type) {
+    CounterDeltaEngine engine = ENGINES.get(type);
+    if (engine == null) {
+      engine = ENGINES.computeIfAbsent(type, t -> new CounterDeltaEngine(Metamodel.describe(t)));
+    }
+    return engine;
+  }
+
+  /**
+   * Collect the counters of an object and its single-instance descendants.
+   *
+   * @return true if the object or a descendant holds a counter
+   */
+  private static boolean collect(ObjectDescriptor<?> object, int parent, int ordinal, String prefix,
+                                 List<ObjectDescriptor<?>> objectList, List<Integer> parentList, List<Integer> ordinalList,
+                                 List<Integer> counterObjectList, List<ParameterDescriptor> counterList,
+                                 List<Integer> widthList, List<String> nameList) {
+    int index = objectList.size();
+    objectList.add(object);
+    parentList.add(parent);
+    ordinalList.add(ordinal);
+    int counterCount = counterList.size();
+    boolean stats = object.getPath().endsWith(".Stats.");
+    for (ParameterDescriptor parameter : object.getParameters()) {
+      int width = parameter.isList() ? -1
+                  : parameter.getType() == StatsCounter64.class ? 64
+                    : parameter.getType() == StatsCounter32.class ? 32
+                      : stats && parameter.getType() == Long.class ? UNKNOWN_WIDTH : -1;
+      if (width >= 0) {
+        counterObjectList.add(index);
+        counterList.add(parameter);
+        widthList.add(width);
+        nameList.add(prefix + parameter.getName());
+      }
+    }
+    boolean found = counterList.size() > counterCount;
+    for (ChildDescriptor child : object.getChildren()) {
+      if (!child.isTable() && child.getObject() != null
+          && collect(child.getObject(), index, child.getOrdinal(), prefix + child.getName() + ".",
+                     objectList, parentList, ordinalList, counterObjectList, counterList, widthList, nameList)) {
+        found = true;
+      }
+    }
+    if (!found && index > 0) {
+      // Drop the subtree: it holds no counter.
+      objectList.subList(index, objectList.size()).clear();
+      parentList.subList(index, parentList.size()).clear();
+      ordinalList.subList(index, ordinalList.size()).clear();
+    }
+    return found;
+  }
+
+  private static int[] toArray(List<Integer> list) {
+    int[] array = new int[list.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = list.get(i);
+    }
+    return array;
+  }
+
+  public ObjectDescriptor<?> getRoot() {
+    return root;
+  }
+
+  /**
+   * @return the number of counters
+   */
+  public int size() {
+    return counters.length;
+  }
+
+  /**
+   * @param counter the counter index
+   * @return the counter parameter
+   */
+  public ParameterDescriptor getParameter(int counter) {
+    return counters[counter];
+  }
+
+  /**
+   * @param counter the counter index
+   * @return the counter path relative to the root object, e.g.
+   *         "Stats.BytesSent"
+   */
+  public String getName(int counter) {
+    return names[counter];
+  }
+
+  /**
+   * @param name the counter path relative to the root object
+   * @return the counter index, -1 if there is no such counter
+   */
+  public int indexOf(String name) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return a new result to pass to
+   *         {@link #compute(Object, Object, CounterDeltas)}
+   */
+  public CounterDeltas newDeltas() {
+    return new CounterDeltas(this, counters.length, objects.length);
+  }
+
+  /**
+   * @param previous the earlier snapshot
+   * @param current  the later snapshot
+   * @return the counter deltas
+   */
+  public CounterDeltas compute(Object previous, Object current) {
+    CounterDeltas deltas = newDeltas();
+    compute(previous, current, deltas);
+    return deltas;
+  }
+
+  /**
+   * @param previous the earlier snapshot
+   * @param current  the later snapshot
+   * @param deltas   the result to fill, from {@link #newDeltas()}
+   */
+  public void compute(Object previous, Object current, CounterDeltas deltas) {
+    if (deltas.getEngine() != this) {
+      throw new IllegalArgumentException("Deltas of another engine");
+    }
+    resolve(previous, deltas.previousObjects);
+    resolve(current, deltas.currentObjects);
+    for (int i = 0; i < counters.length; i++) {
+      int ordinal = counters[i].getOrdinal();
+      ObjectDescriptor<?> object = objects[counterObjects[i]];
+      Object before = deltas.previousObjects[counterObjects[i]];
+      Object after = deltas.currentObjects[counterObjects[i]];
+      Object previousValue = before == null ? null : object.getValue(before, ordinal);
+      Object currentValue = after == null ? null : object.getValue(after, ordinal);
+      if (!isAvailable(previousValue) || !isAvailable(currentValue)) {
+        deltas.set(i, 0, CounterDeltas.State.UNAVAILABLE);
+      } else {
+        delta(longValue(previousValue), longValue(currentValue), widths[i], deltas, i);
+      }
+    }
+    deltas.clearObjects();
+  }
+
+  private void resolve(Object root, Object[] resolved) {
+    resolved[0] = root;
+    for (int i = 1; i < objects.length; i++) {
+      Object parent = resolved[parents[i]];
+      resolved[i] = parent == null ? null : objects[parents[i]].getObject(parent, ordinals[i]);
+    }
+  }
+
+  private static void delta(long previous, long current, int width, CounterDeltas deltas, int counter) {
+    if (Long.compareUnsigned(current, previous) >= 0) {
+      deltas.set(counter, current - previous, CounterDeltas.State.VALID);
+      return;
+    }
+    if (width == UNKNOWN_WIDTH) {
+      width = (previous >>> 32) == 0 && (current >>> 32) == 0 ? 32 : 64;
+    }
+    long wrapped = width == 32 ? (current - previous) & 0xffffffffL : current - previous;
+    long half = width == 32 ? 1L << 31 : Long.MIN_VALUE;
+    if (Long.compareUnsigned(wrapped, half) <= 0) {
+      deltas.set(counter, wrapped, CounterDeltas.State.ROLLOVER);
+    } else {
+      deltas.set(counter, current, CounterDeltas.State.RESET);
+    }
+  }
+
+  private static boolean isAvailable(Object value) {
+    if (value instanceof StatsCounter64) {
+      return ((StatsCounter64) value).isAvailable();
+    }
+    if (value instanceof StatsCounter32) {
+      return ((StatsCounter32) value).isAvailable();
+    }
+    return value instanceof Long;
+  }
+
+  private static long longValue(Object value) {
+    if (value instanceof StatsCounter64) {
+      return ((StatsCounter64) value).longValue();
+    }
+    if (value instanceof StatsCounter32) {
+      return ((StatsCounter32) value).longValue();
+    }
+    return (Long) value;
+  }
+
+  @Override
+  public String toString() {
+    return "CounterDeltaEngine " + root;
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Arrays;
+
+/**
+ * The per-counter deltas between two snapshots of an entity, computed by a
+ * {@link CounterDeltaEngine}. Counters are addressed by their index in the
+ * engine. Deltas are unsigned.
+ * <p>
+ * A result may be reused for any number of computations by the same engine.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class CounterDeltas {
+
+  /**
+   * How the delta of a counter was obtained.
+   */
+  public enum State {
+    /**
+     * The counter increased or did not change.
+     */
+    VALID,
+    /**
+     * The counter wrapped around through zero; the delta includes the wrap.
+     */
+    ROLLOVER,
+    /**
+     * The counter was reset; the delta is the current value.
+     */
+    RESET,
+    /**
+     * The counter is absent or reports no data in either snapshot; the delta
+     * is zero.
+     */
+    UNAVAILABLE;
+
+    private static final State[] VALUES = values();
+  }
+
+  private final CounterDeltaEngine engine;
+  private final long[] deltas;
+  private final byte[] states;
+  /**
+   * Scratch space for the objects resolved from each snapshot.
+   */
+  final Object[] previousObjects;
+  final Object[] currentObjects;
+
+  CounterDeltas(CounterDeltaEngine engine, int counters, int objects) {
+    this.engine = engine;
+    this.deltas = new long[counters];
+    this.states = new byte[counters];
+    this.previousObjects = new Object[objects];
+    this.currentObjects = new Object[objects];
+  }
+
+  public CounterDeltaEngine getEngine() {
+    return engine;
+  }
+
+  /**
+   * @return the number of counters
+   */
+  public int size() {
+    return deltas.length;
+  }
+
+  /**
+   * @param counter the counter index
+   * @return the unsigned delta
+   */
+  public long getDelta(int counter) {
+    return deltas[counter];
+  }
+
+  /**
+   * @param counter the counter index
+   * @return how the delta was obtained
+   */
+  public State getState(int counter) {
+    return State.VALUES[states[counter]];
+  }
+
+  /**
+   * @param counter the counter index
+   * @param seconds the time between the two snapshots
+   * @return the delta per second, zero if the counter is unavailable
+   */
+  public double getRate(int counter, double seconds) {
+    long delta = deltas[counter];
+    double value = delta >= 0 ? delta : (double) (delta >>> 1) * 2.0 + (delta & 1);
+    return value / seconds;
+  }
+
+  /**
+   * @param state a delta state
+   * @return the number of counters in the given state
+   */
+  public int count(State state) {
+    int count = 0;
+    for (byte s : states) {
+      if (s == state.ordinal()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  void set(int counter, long delta, State state) {
+    deltas[counter] = delta;
+    states[counter] = (byte) state.ordinal();
+  }
+
+  void clearObjects() {
+    Arrays.fill(previousObjects, null);
+    Arrays.fill(currentObjects, null);
+  }
+
+}
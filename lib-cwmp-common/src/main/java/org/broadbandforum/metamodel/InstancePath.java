@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Arrays;
+
+/**
+ * A parsed instance path, e.g. {@code Device.WiFi.Radio.1.Stats.BytesSent},
+ * split into its path template {@code Device.WiFi.Radio.{i}.Stats.BytesSent}
+ * and its instance numbers {@code [1]}.
+ * <p>
+ * Instances may also be addressed by alias as defined by TR-069a4
+ * alias-based addressing, e.g. {@code Device.IP.Interface.[wan1].Enable}. An
+ * alias segment is also replaced by {@code {i}} in the template; its instance
+ * number is 0 and its alias is recorded at the same position.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class InstancePath {
+
+  private static final int[] NO_INSTANCES = new int[0];
+
+  private final String template;
+  private final int[] instances;
+  /**
+   * The alias of each alias segment, null for instance number segments. Null
+   * if the path has no alias segment.
+   */
+  private final String[] aliases;
+
+  private InstancePath(String template, int[] instances, String[] aliases) {
+    this.template = template;
+    this.instances = instances;
+    this.aliases = aliases;
+  }
+
+  /**
+   * Parse an instance path in a single pass. Every all-digit path segment is
+   * an instance number and every path segment in square brackets an alias.
+   *
+   * @param path the instance path
+   * @return the parsed path
+   * @throws IllegalArgumentException if an instance number is out of range,
+   *                                  an alias is not terminated, a segment is
+   *                                  empty or a segment contains a brace, e.g.
+   *                                  the {@code {i}} placeholder
+   */
+  public static InstancePath parse(String path) {
+    int length = path.length();
+    StringBuilder template = null;
+    int[] instances = NO_INSTANCES;
+    String[] aliases = null;
+    int count = 0;
+    int copied = 0;
+    int start = 0;
+    while (start < length) {
+      boolean alias = path.charAt(start) == '[';
+      int end;
+      if (alias) {
+        // An alias may contain dots; it ends at the closing bracket.
+        end = path.indexOf(']', start) + 1;
+        if (end == 0 || (end < length && path.charAt(end) != '.')) {
+          throw new IllegalArgumentException("Invalid alias in " + path);
+        }
+      } else {
+        end = path.indexOf('.', start);
+        if (end < 0) {
+          end = length;
+        }
+        if (end == start) {
+          throw new IllegalArgumentException("Empty segment in " + path);
+        }
+      }
+      if (alias || isDigits(path, start, end)) {
+        if (template == null) {
+          template = new StringBuilder(length + 8);
+        }
+        template.append(path, copied, start).append("{i}");
+        copied = end;
+        if (count == instances.length) {
+          instances = Arrays.copyOf(instances, Math.max(4, count * 2));
+          if (aliases != null) {
+            aliases = Arrays.copyOf(aliases, instances.length);
+          }
+        }
+        if (alias) {
+          if (aliases == null) {
+            aliases = new String[instances.length];
+          }
+          aliases[count++] = path.substring(start + 1, end - 1);
+        } else {
+          instances[count++] = parseInstance(path, start, end);
+        }
+      } else if (hasBrace(path, start, end)) {
+        // A template placeholder is not an instance path segment.
+        throw new IllegalArgumentException("Invalid segment in " + path);
+      }
+      start = end + 1;
+    }
+    if (template == null) {
+      return new InstancePath(path, NO_INSTANCES, null);
+    }
+    template.append(path, copied, length);
+    return new InstancePath(template.toString(), Arrays.copyOf(instances, count),
+                            aliases == null ? null : Arrays.copyOf(aliases, count));
+  }
+
+  private static boolean isDigits(String path, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = path.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasBrace(String path, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = path.charAt(i);
+      if (c == '{' || c == '}') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int parseInstance(String path, int start, int end) {
+    if (end - start > 10) {
+      throw new IllegalArgumentException("Instance number out of range in " + path);
+    }
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      value = value * 10 + (path.charAt(i) - '0');
+    }
+    if (value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Instance number out of range in " + path);
+    }
+    return (int) value;
+  }
+
+  /**
+   * @return the path template, e.g. "Device.WiFi.Radio.{i}.Stats.BytesSent"
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * @return the instance numbers in path order
+   */
+  public int[] getInstances() {
+    return instances;
+  }
+
+  /**
+   * @return the alias of each alias segment in path order, null for instance
+   *         number segments; null if the path has no alias segment
+   */
+  public String[] getAliases() {
+    return aliases;
+  }
+
+  @Override
+  public String toString() {
+    return template + Arrays.toString(instances) + (aliases == null ? "" : Arrays.toString(aliases));
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Static registry of the CWMP objects of one data model module, e.g. all
+ * {@code Device.} objects of TR-181.
+ * <p>
+ * A concrete subclass is generated for every entity module by the
+ * {@code MetamodelProcessor} and registered as a {@link ServiceLoader}
+ * service. Lookups by path template or entity class are constant time and do
+ * not use reflection.
+ * <p>
+ * Use {@link #of(Class)} to obtain the metamodel of a given entity class.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public abstract class Metamodel {
+
+  /**
+   * Installed metamodels, indexed by every entity class they describe.
+   */
+  private static final Map<Class<?>, Metamodel> INSTALLED = new ConcurrentHashMap<>();
+  /**
+   * The service loader result per class, null if no installed metamodel
+   * describes it. Caches misses too, so that looking up a class that is not
+   * an entity, e.g. the row type of a plain table, loads the metamodels only
+   * once.
+   */
+  private static final ClassValue<Metamodel> LOADED = new ClassValue<Metamodel>() {
+    @Override
+    protected Metamodel computeValue(Class<?> type) {
+      for (Metamodel installed : ServiceLoader.load(Metamodel.class, type.getClassLoader())) {
+        if (installed.types.containsKey(type)) {
+          return installed;
+        }
+      }
+      return null;
+    }
+  };
+
+  private final List<ObjectDescriptor<?>> objects;
+  private final Map<String, ObjectDescriptor<?>> paths;
+  private final Map<Class<?>, ObjectDescriptor<?>> types;
+
+  /**
+   * @param objects the object descriptors of this module, root object first
+   */
+  protected Metamodel(ObjectDescriptor<?>... objects) {
+    this.objects = Collections.unmodifiableList(Arrays.asList(objects));
+    this.paths = new HashMap<>(objects.length * 2);
+    this.types = new HashMap<>(objects.length * 2);
+    for (ObjectDescriptor<?> object : objects) {
+      object.setMetamodel(this);
+      paths.put(object.getPath(), object);
+      types.put(object.getType(), object);
+    }
+    for (ObjectDescriptor<?> object : objects) {
+      for (ChildDescriptor child : object.getChildren()) {
+        ObjectDescriptor<?> target = types.get(child.getType());
+        child.setObject(target);
+        if (target != null) {
+          target.setParent(object);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the root object descriptor, e.g. {@code Device.}
+   */
+  public ObjectDescriptor<?> getRoot() {
+    return objects.get(0);
+  }
+
+  /**
+   * @return the values of the string enumerations of the data model, the
+   *         values declared by the most enumerations first; empty if the
+   *         module was generated without its data model XML
+   */
+  public List<String> getEnumerationValues() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * @return all object descriptors of this module, root object first
+   */
+  public List<ObjectDescriptor<?>> getObjects() {
+    return objects;
+  }
+
+  /**
+   * @param path the object path template, e.g. "Device.WiFi.Radio.{i}."
+   * @return the object descriptor, null if not defined in this module
+   */
+  public ObjectDescriptor<?> getObject(String path) {
+    return paths.get(path);
+  }
+
+  /**
+   * @param <T>  the entity type
+   * @param type the entity class
+   * @return the object descriptor, null if not defined in this module
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ObjectDescriptor<T> getObject(Class<T> type) {
+    return (ObjectDescriptor<T>) types.get(type);
+  }
+
+  /**
+   * Get the metamodel describing the given entity class.
+   *
+   * @param type any entity class, e.g. {@code Device.class}
+   * @return the metamodel of the module the entity class belongs to
+   * @throws IllegalArgumentException if no installed metamodel describes the
+   *                                  class
+   */
+  public static Metamodel of(Class<?> type) {
+    Metamodel metamodel = lookup(type);
+    if (metamodel == null) {
+      throw new IllegalArgumentException("No CWMP metamodel is installed for " + type.getName());
+    }
+    return metamodel;
+  }
+
+  /**
+   * @param <T>  the entity type
+   * @param type any entity class
+   * @return the object descriptor of the entity class
+   * @throws IllegalArgumentException if no installed metamodel describes the
+   *                                  class
+   */
+  public static <T> ObjectDescriptor<T> describe(Class<T> type) {
+    return of(type).getObject(type);
+  }
+
+  /**
+   * @param <T>  the entity type
+   * @param type any class, e.g. the class of a table row
+   * @return the object descriptor of the entity class, null if no installed
+   *         metamodel describes the class
+   */
+  public static <T> ObjectDescriptor<T> find(Class<T> type) {
+    Metamodel metamodel = lookup(type);
+    return metamodel == null ? null : metamodel.getObject(type);
+  }
+
+  /**
+   * @param classLoader the class loader to search
+   * @return all metamodels visible to the class loader
+   */
+  public static List<Metamodel> installed(ClassLoader classLoader) {
+    List<Metamodel> metamodels = new ArrayList<>();
+    for (Metamodel installed : ServiceLoader.load(Metamodel.class, classLoader)) {
+      metamodels.add(register(installed));
+    }
+    return metamodels;
+  }
+
+  /**
+   * @param type any class
+   * @return the metamodel describing the class, null if none is installed
+   */
+  private static Metamodel lookup(Class<?> type) {
+    Metamodel metamodel = INSTALLED.get(type);
+    if (metamodel == null) {
+      Metamodel loaded = LOADED.get(type);
+      return loaded == null ? null : register(loaded);
+    }
+    return metamodel;
+  }
+
+  /**
+   * Index a loaded metamodel by all of its entity classes. An already
+   * registered metamodel for the same module takes precedence.
+   *
+   * @param metamodel the loaded metamodel
+   * @return the registered metamodel
+   */
+  private static Metamodel register(Metamodel metamodel) {
+    Metamodel registered = INSTALLED.putIfAbsent(metamodel.getRoot().getType(), metamodel);
+    if (registered != null) {
+      return registered;
+    }
+    for (Class<?> type : metamodel.types.keySet()) {
+      INSTALLED.putIfAbsent(type, metamodel);
+    }
+    return metamodel;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + getRoot().getPath() + "]";
+  }
+
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+
+/**
+ * Describes a CWMP object, i.e. an entity class annotated with
+ * {@code @CWMPObject}.
+ * <p>
+ * A concrete subclass is generated for every entity class by the
+ * {@code MetamodelProcessor} and named after the entity with a trailing
+ * underscore, e.g. {@code Host_} for {@code Host}. The generated class reads
+ * and writes the entity fields directly, addressed by the ordinal of the
+ * parameter or child descriptor.
+ *
+ * @param <T> the entity type
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public abstract class ObjectDescriptor<T> {
+
+  private final String path;
+  private final Class<T> type;
+  private final List<ParameterDescriptor> parameters;
+  private final List<ChildDescriptor> children;
+  private final List<UniqueDescriptor> uniqueConstraints;
+  private final List<ParameterDescriptor> enumerations;
+  private final Map<String, ParameterDescriptor> parameterNames;
+  private final Map<String, ChildDescriptor> childNames;
+  /**
+   * The parameter ordinals of each unique constraint.
+   */
+  private final int[][] uniqueOrdinals;
+  /**
+   * True for each parameter ordinal taking part in a unique constraint.
+   */
+  private final boolean[] uniqueKeyParameters;
+  /**
+   * The parent object descriptor. Linked by the owning Metamodel.
+   */
+  private ObjectDescriptor<?> parent;
+  /**
+   * The owning metamodel.
+   */
+  private Metamodel metamodel;
+
+  /**
+   * @param path              the object path template, e.g.
+   *                          "Device.Hosts.Host.{i}."
+   * @param type              the entity class
+   * @param parameters        the parameters in ordinal order
+   * @param children          the child objects and tables in ordinal order
+   * @param uniqueConstraints the unique key constraints
+   */
+  protected ObjectDescriptor(String path, Class<T> type, ParameterDescriptor[] parameters,
+                             ChildDescriptor[] children, UniqueDescriptor[] uniqueConstraints) {
+    this.path = path;
+    this.type = type;
+    this.parameters = Collections.unmodifiableList(Arrays.asList(parameters));
+    this.children = Collections.unmodifiableList(Arrays.asList(children));
+    this.uniqueConstraints = Collections.unmodifiableList(Arrays.asList(uniqueConstraints));
+    this.parameterNames = new HashMap<>(parameters.length * 2);
+    List<ParameterDescriptor> enumerationParameters = new ArrayList<>();
+    for (ParameterDescriptor parameter : parameters) {
+      parameterNames.put(parameter.getName(), parameter);
+      if (parameter.isEnumeration()) {
+        enumerationParameters.add(parameter);
+      }
+    }
+    this.enumerations = enumerationParameters.isEmpty()
+                        ? Collections.emptyList()
+                        : Collections.unmodifiableList(enumerationParameters);
+    this.childNames = new HashMap<>(children.length * 2);
+    for (ChildDescriptor child : children) {
+      childNames.put(child.getName(), child);
+    }
+    this.uniqueOrdinals = new int[uniqueConstraints.length][];
+    this.uniqueKeyParameters = new boolean[parameters.length];
+    for (int i = 0; i < uniqueConstraints.length; i++) {
+      List<String> names = uniqueConstraints[i].getNames();
+      uniqueOrdinals[i] = new int[names.size()];
+      for (int j = 0; j < names.size(); j++) {
+        ParameterDescriptor parameter = parameterNames.get(names.get(j));
+        uniqueOrdinals[i][j] = parameter == null ? -1 : parameter.getOrdinal();
+        if (parameter != null) {
+          uniqueKeyParameters[parameter.getOrdinal()] = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the object path template, e.g. "Device.Hosts.Host.{i}."
+   */
+  public String getPath() {
+    return path;
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * @return true if the object is a table row, i.e. the path template ends
+   *         with "{i}."
+   */
+  public boolean isMultiInstance() {
+    return path.endsWith("{i}.");
+  }
+
+  public List<ParameterDescriptor> getParameters() {
+    return parameters;
+  }
+
+  /**
+   * @param name the CWMP parameter name, e.g. "BytesSent"
+   * @return the parameter descriptor, null if not defined
+   */
+  public ParameterDescriptor getParameter(String name) {
+    return parameterNames.get(name);
+  }
+
+  /**
+   * @return the string enumeration parameters
+   */
+  public List<ParameterDescriptor> getEnumerations() {
+    return enumerations;
+  }
+
+  public List<ChildDescriptor> getChildren() {
+    return children;
+  }
+
+  /**
+   * @param name the path segment, e.g. "Radio"
+   * @return the child descriptor, null if not defined
+   */
+  public ChildDescriptor getChild(String name) {
+    return childNames.get(name);
+  }
+
+  public List<UniqueDescriptor> getUniqueConstraints() {
+    return uniqueConstraints;
+  }
+
+  /**
+   * @param names the parameter names of a unique constraint, in declaration
+   *              order
+   * @return the index of the unique constraint, -1 if not defined
+   */
+  public int getUniqueConstraint(String... names) {
+    for (int i = 0; i < uniqueConstraints.size(); i++) {
+      List<String> constraint = uniqueConstraints.get(i).getNames();
+      if (constraint.size() == names.length) {
+        boolean match = true;
+        for (int j = 0; j < names.length && match; j++) {
+          match = constraint.get(j).equals(names[j]);
+        }
+        if (match) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param parameter a parameter of this object
+   * @return true if the parameter takes part in a unique constraint
+   */
+  public boolean isUniqueKey(ParameterDescriptor parameter) {
+    return uniqueKeyParameters[parameter.getOrdinal()];
+  }
+
+  /**
+   * Read the unique key of a table row.
+   *
+   * @param object     the entity instance
+   * @param constraint the unique constraint index
+   * @return the key, null if any key parameter is null
+   */
+  public Object getUniqueKey(Object object, int constraint) {
+    int[] ordinals = uniqueOrdinals[constraint];
+    if (ordinals.length == 1) {
+      return ordinals[0] < 0 ? null : Values.key(getValue(object, ordinals[0]));
+    }
+    Object[] values = new Object[ordinals.length];
+    for (int i = 0; i < ordinals.length; i++) {
+      values[i] = ordinals[i] < 0 ? null : getValue(object, ordinals[i]);
+    }
+    return Values.compositeKey(values);
+  }
+
+  /**
+   * Build the unique key matching the given parameter values.
+   *
+   * @param constraint the unique constraint index
+   * @param values     the key parameter values, or their text, one per
+   *                   parameter of the constraint
+   * @return the key, null if any value is null or empty
+   */
+  public Object toUniqueKey(int constraint, Object... values) {
+    int[] ordinals = uniqueOrdinals[constraint];
+    if (ordinals.length == 1) {
+      return ordinals[0] < 0 ? null : Values.key(values[0], parameters.get(ordinals[0]).getType());
+    }
+    Object[] keys = new Object[ordinals.length];
+    for (int i = 0; i < ordinals.length; i++) {
+      keys[i] = ordinals[i] < 0 ? null : Values.key(values[i], parameters.get(ordinals[i]).getType());
+    }
+    return Values.compositeKey(keys);
+  }
+
+  /**
+   * @return the parent object descriptor, null for the root object
+   */
+  public ObjectDescriptor<?> getParent() {
+    return parent;
+  }
+
+  void setParent(ObjectDescriptor<?> parent) {
+    this.parent = parent;
+  }
+
+  public Metamodel getMetamodel() {
+    return metamodel;
+  }
+
+  void setMetamodel(Metamodel metamodel) {
+    this.metamodel = metamodel;
+  }
+
+  /**
+   * @return a new, empty entity instance
+   */
+  public abstract T newInstance();
+
+  /**
+   * @param object  the entity instance
+   * @param ordinal the parameter ordinal
+   * @return the current field value, possibly null
+   */
+  public abstract Object getValue(Object object, int ordinal);
+
+  /**
+   * Assign a parameter field. The change is not marked in the dirty bits of
+   * a tracked object, see {@link #markChanged(Object, int)}.
+   *
+   * @param object  the entity instance
+   * @param ordinal the parameter ordinal
+   * @param value   the new field value
+   */
+  public abstract void setValue(Object object, int ordinal, Object value);
+
+  /**
+   * @param object  the entity instance
+   * @param ordinal the child ordinal
+   * @return the child object or table collection, possibly null
+   */
+  public abstract Object getObject(Object object, int ordinal);
+
+  /**
+   * @param object  the entity instance
+   * @param ordinal the child ordinal
+   * @param value   the child object or table collection
+   */
+  public abstract void setObject(Object object, int ordinal, Object value);
+
+  /**
+   * @param object the entity instance
+   * @return the changed parameters of the object, null if it is not tracked
+   *         or has no parameters
+   */
+  public DirtyBits getDirtyBits(Object object) {
+    return null;
+  }
+
+  /**
+   * Mark a parameter as changed, as the entity setters do. Ignored if the
+   * object is not tracked.
+   *
+   * @param object  the entity instance
+   * @param ordinal the parameter ordinal
+   */
+  public final void markChanged(Object object, int ordinal) {
+    DirtyBits bits = getDirtyBits(object);
+    if (bits != null) {
+      bits.set(ordinal);
+    }
+  }
+
+  /**
+   * Start or stop tracking the parameter changes of an object. Ignored if the
+   * object has no parameters.
+   *
+   * @param object the entity instance
+   * @param bits   the bits marked by the setters, null to stop tracking
+   */
+  public void setDirtyBits(Object object, DirtyBits bits) {
+  }
+
+  /**
+   * @param object the entity instance
+   * @return the table indexing the object by its unique keys, null if none
+   *         or if the object has no unique constraint
+   */
+  public InstanceTable<?> getIndexingTable(Object object) {
+    return null;
+  }
+
+  /**
+   * Set the table the setters of the key parameters of an object reindex it
+   * in. Ignored if the object has no unique constraint.
+   *
+   * @param object the entity instance
+   * @param table  the table, null to detach the object
+   */
+  public void setIndexingTable(Object object, InstanceTable<?> table) {
+  }
+
+  /**
+   * Read the {@code forcedInform} parameters of the tree below a root object
+   * by direct field access. The slots follow a depth first walk of the
+   * single-instance objects: the parameters of an object first, then each
+   * child, in ordinal order. Slots below a missing object are left
+   * untouched. Overridden by the generated descriptors of root objects.
+   *
+   * @param object the root entity
+   * @param values receives the values, one slot per forcedInform parameter
+   */
+  public void getForcedInform(Object object, Object[] values) {
+  }
+
+  /**
+   * Check the parameter values and table sizes of an object against the
+   * {@code @Size}, {@code @Pattern} and min/maxEntries constraints of the
+   * entity class, without descending into its children. Overridden by the
+   * generated descriptors of constrained objects.
+   *
+   * @param object     the entity instance
+   * @param violations collects the violations
+   */
+  public void validate(Object object, Violations violations) {
+  }
+
+  @Override
+  public String toString() {
+    return path;
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+/**
+ * Describes a single CWMP parameter of an object, i.e. a field of an entity
+ * class that is neither a child object nor a table.
+ * <p>
+ * Instances are created by the generated {@link ObjectDescriptor} classes and
+ * carry the values of the {@code @CWMPParameter} annotation so that no
+ * reflection is needed at runtime.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ParameterDescriptor {
+
+  private final int ordinal;
+  private final String name;
+  private final String field;
+  private final Class<?> type;
+  private final String xsdType;
+  private final boolean list;
+  private final boolean enumeration;
+  private final String access;
+  private final boolean optional;
+  private final boolean required;
+  private final String activeNotify;
+  private final boolean forcedInform;
+  private final String units;
+
+  /**
+   * @param ordinal      the index of this parameter in the owning object
+   * @param name         the CWMP parameter name, e.g. "BytesSent"
+   * @param field        the Java field name, e.g. "bytesSent"
+   * @param type         the Java value type; the item type for lists
+   * @param xsdType      the declared xsi:type, e.g. "xsd:unsignedInt"
+   * @param list         true if the parameter is a comma-separated list
+   * @param enumeration  true if the parameter is a single-valued string
+   *                     enumeration
+   * @param access       "readOnly" or "readWrite"
+   * @param optional     the @CWMPParameter optional value
+   * @param required     the @CWMPParameter required value
+   * @param activeNotify the @CWMPParameter activeNotify value
+   * @param forcedInform the @CWMPParameter forcedInform value
+   * @param units        the @CWMPParameter units value
+   */
+  public ParameterDescriptor(int ordinal, String name, String field, Class<?> type, String xsdType, boolean list,
+                             boolean enumeration, String access, boolean optional, boolean required,
+                             String activeNotify, boolean forcedInform, String units) {
+    this.ordinal = ordinal;
+    this.name = name;
+    this.field = field;
+    this.type = type;
+    this.xsdType = xsdType;
+    this.list = list;
+    this.enumeration = enumeration;
+    this.access = access;
+    this.optional = optional;
+    this.required = required;
+    this.activeNotify = activeNotify;
+    this.forcedInform = forcedInform;
+    this.units = units;
+  }
+
+  public int getOrdinal() {
+    return ordinal;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getField() {
+    return field;
+  }
+
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * @return the xsi:type of the parameter value in a ParameterValueStruct,
+   *         e.g. "xsd:unsignedInt"; "xsd:string" for lists
+   */
+  public String getXsdType() {
+    return xsdType;
+  }
+
+  public boolean isList() {
+    return list;
+  }
+
+  /**
+   * @return true if the values of the parameter are the names of an
+   *         enumeration, e.g. the Status of an interface. The values are
+   *         interned through {@code Enumerations}.
+   */
+  public boolean isEnumeration() {
+    return enumeration;
+  }
+
+  public String getAccess() {
+    return access;
+  }
+
+  /**
+   * @return true if the parameter access is "readWrite"
+   */
+  public boolean isWritable() {
+    return "readWrite".equals(access);
+  }
+
+  public boolean isOptional() {
+    return optional;
+  }
+
+  public boolean isRequired() {
+    return required;
+  }
+
+  public String getActiveNotify() {
+    return activeNotify;
+  }
+
+  public boolean isForcedInform() {
+    return forcedInform;
+  }
+
+  public String getUnits() {
+    return units;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+}
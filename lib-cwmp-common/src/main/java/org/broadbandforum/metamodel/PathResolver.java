@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves CWMP parameter and object paths such as
+ * {@code Device.WiFi.Radio.1.Stats.BytesSent} against an entity tree.
+ * <p>
+ * Each path template is compiled once into a {@link CompiledPath}, a chain of
+ * generated field accessors, and cached. Resolving a path then parses the
+ * instance numbers and walks the chain, binding each {@code {i}} directly to a
+ * row of the table collection.
+ * <p>
+ * Rows may also be addressed by alias, e.g.
+ * {@code Device.IP.Interface.[wan1].Enable}, resolved through the unique
+ * Alias index of the table.
+ * <p>
+ * Resolvers are thread safe. Use {@link #of(Class)} to obtain the shared
+ * resolver of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class PathResolver {
+
+  private static final Map<Metamodel, PathResolver> RESOLVERS = new ConcurrentHashMap<>();
+
+  private final Metamodel metamodel;
+  private final Map<String, CompiledPath> compiled = new ConcurrentHashMap<>();
+
+  public PathResolver(Metamodel metamodel) {
+    this.metamodel = metamodel;
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared resolver of the data model
+   */
+  public static PathResolver of(Class<?> type) {
+    return RESOLVERS.computeIfAbsent(Metamodel.of(type), PathResolver::new);
+  }
+
+  public Metamodel getMetamodel() {
+    return metamodel;
+  }
+
+  /**
+   * Compile a path template, e.g. "Device.WiFi.Radio.{i}.Stats.BytesSent" or
+   * "Device.WiFi.Radio.{i}.".
+   *
+   * @param template the path template
+   * @return the compiled path
+   * @throws IllegalArgumentException if the template does not address a
+   *                                  parameter or an object of this model
+   */
+  public CompiledPath compile(String template) {
+    CompiledPath path = compiled.get(template);
+    if (path == null) {
+      path = compiled.computeIfAbsent(template, this::doCompile);
+    }
+    return path;
+  }
+
+  private CompiledPath doCompile(String template) {
+    ObjectDescriptor<?> root = metamodel.getRoot();
+    String rootPath = root.getPath();
+    if (!template.startsWith(rootPath)) {
+      throw new IllegalArgumentException("Invalid parameter name " + template);
+    }
+    List<ObjectDescriptor<?>> owners = new ArrayList<>();
+    List<ChildDescriptor> steps = new ArrayList<>();
+    ObjectDescriptor<?> current = root;
+    int start = rootPath.length();
+    int length = template.length();
+    while (start < length) {
+      int end = template.indexOf('.', start);
+      if (end < 0) {
+        // The last segment of a parameter path.
+        ParameterDescriptor parameter = current.getParameter(template.substring(start));
+        if (parameter == null) {
+          throw new IllegalArgumentException("Invalid parameter name " + template);
+        }
+        return new CompiledPath(template, owners.toArray(new ObjectDescriptor<?>[0]), steps.toArray(new ChildDescriptor[0]), current, parameter);
+      }
+      ChildDescriptor child = current.getChild(template.substring(start, end));
+      if (child == null || child.getObject() == null) {
+        throw new IllegalArgumentException("Invalid parameter name " + template);
+      }
+      if (child.isTable()) {
+        if (!template.startsWith("{i}.", end + 1)) {
+          throw new IllegalArgumentException("Invalid parameter name " + template);
+        }
+        end += 4;
+      }
+      owners.add(current);
+      steps.add(child);
+      current = child.getObject();
+      start = end + 1;
+    }
+    return new CompiledPath(template, owners.toArray(new ObjectDescriptor<?>[0]), steps.toArray(new ChildDescriptor[0]), current, null);
+  }
+
+  /**
+   * @param root the root entity
+   * @param path the parameter path, e.g.
+   *             "Device.WiFi.Radio.1.Stats.BytesSent"
+   * @return the parameter value, null if the value or any object along the
+   *         path does not exist
+   * @throws IllegalArgumentException if the path is not a valid parameter
+   *                                  name
+   */
+  public Object getValue(Object root, String path) {
+    InstancePath parsed = InstancePath.parse(path);
+    return compile(parsed.getTemplate()).getValue(root, parsed);
+  }
+
+  /**
+   * @param root  the root entity
+   * @param path  the parameter path
+   * @param value the new parameter value
+   * @throws IllegalArgumentException if the path is not a valid parameter
+   *                                  name or an instance along the path does
+   *                                  not exist
+   */
+  public void setValue(Object root, String path, Object value) {
+    InstancePath parsed = InstancePath.parse(path);
+    compile(parsed.getTemplate()).setValue(root, parsed, value);
+  }
+
+  /**
+   * @param root the root entity
+   * @param path the object path, e.g. "Device.WiFi.Radio.1."
+   * @return the entity, null if any object or instance along the path does
+   *         not exist
+   * @throws IllegalArgumentException if the path is not a valid object name
+   */
+  public Object getObject(Object root, String path) {
+    InstancePath parsed = InstancePath.parse(path);
+    return compile(parsed.getTemplate()).resolve(root, parsed);
+  }
+
+  /**
+   * @param root the root entity
+   * @param path a parameter or object path addressing rows by instance number
+   *             or by alias, e.g. "Device.IP.Interface.[wan1].Enable"
+   * @return the path addressing every row by instance number, e.g.
+   *         "Device.IP.Interface.3.Enable"; null if any object or instance
+   *         along the path does not exist
+   * @throws IllegalArgumentException if the path is not a valid name
+   */
+  public String toInstancePath(Object root, String path) {
+    InstancePath parsed = InstancePath.parse(path);
+    return parsed.getAliases() == null
+           ? (compile(parsed.getTemplate()).resolve(root, parsed) == null ? null : path)
+           : compile(parsed.getTemplate()).toInstancePath(root, parsed);
+  }
+
+  /**
+   * @param root the root entity
+   * @param path a parameter or object path addressing rows by instance number
+   *             or by alias
+   * @return the path addressing every row that has an alias by its alias,
+   *         e.g. "Device.IP.Interface.[wan1].Enable"; null if any object or
+   *         instance along the path does not exist
+   * @throws IllegalArgumentException if the path is not a valid name
+   */
+  public String toAliasPath(Object root, String path) {
+    InstancePath parsed = InstancePath.parse(path);
+    return compile(parsed.getTemplate()).toAliasPath(root, parsed);
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import org.broadbandforum.common.InstanceTable;
+
+/**
+ * Instance number access to the {@code Collection} fields backing
+ * multi-instance objects.
+ * <p>
+ * An {@link InstanceTable} is addressed by its stable instance numbers in
+ * constant time. Any other collection numbers its rows by position, starting
+ * at 1.
+ * <p>
+ * Rows are addressed by alias through their {@code Alias} parameter. An
+ * {@link InstanceTable} resolves an alias through its unique index in
+ * constant time.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class Tables {
+
+  private static final String ALIAS = "Alias";
+
+  private Tables() {
+  }
+
+  /**
+   * @param table    the table collection, may be null
+   * @param instance the instance number
+   * @return the table row, null if there is no such instance
+   */
+  public static Object row(Collection<?> table, int instance) {
+    if (table instanceof InstanceTable) {
+      return ((InstanceTable<?>) table).get(instance);
+    }
+    if (table == null || instance < 1 || instance > table.size()) {
+      return null;
+    }
+    if (table instanceof List) {
+      return ((List<?>) table).get(instance - 1);
+    }
+    Iterator<?> iterator = table.iterator();
+    for (int i = 1; i < instance; i++) {
+      iterator.next();
+    }
+    return iterator.next();
+  }
+
+  /**
+   * @param table the table collection, may be null
+   * @param rows  the row object descriptor
+   * @param alias the alias
+   * @return the table row, null if there is no row with the alias or the rows
+   *         have no Alias parameter
+   */
+  public static Object rowByAlias(Collection<?> table, ObjectDescriptor<?> rows, String alias) {
+    ParameterDescriptor parameter = rows.getParameter(ALIAS);
+    if (table == null || parameter == null) {
+      return null;
+    }
+    if (table instanceof InstanceTable && rows.getUniqueConstraint(ALIAS) >= 0) {
+      return ((InstanceTable<?>) table).byUnique(ALIAS, alias);
+    }
+    for (Object row : table) {
+      if (alias.equals(Values.key(rows.getValue(row, parameter.getOrdinal())))) {
+        return row;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param rows the row object descriptor
+   * @param row  the table row
+   * @return the alias of the row, null if it has none
+   */
+  public static String aliasOf(ObjectDescriptor<?> rows, Object row) {
+    ParameterDescriptor parameter = rows.getParameter(ALIAS);
+    return parameter == null ? null : (String) Values.key(rows.getValue(row, parameter.getOrdinal()));
+  }
+
+  /**
+   * @param table the table collection, may be null
+   * @param row   the table row
+   * @return the instance number of the row, 0 if the row is not in the table
+   */
+  public static int instanceNumber(Collection<?> table, Object row) {
+    if (table instanceof InstanceTable) {
+      return ((InstanceTable<?>) table).instanceNumberOf(row);
+    }
+    if (table != null) {
+      int instance = 1;
+      for (Object candidate : table) {
+        if (candidate == row) {
+          return instance;
+        }
+        instance++;
+      }
+    }
+    return 0;
+  }
+
+}
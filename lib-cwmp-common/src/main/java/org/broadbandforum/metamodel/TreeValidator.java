@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.broadbandforum.common.InstanceTable;
+
+/**
+ * Checks an entity tree, or a subtree of it, against the constraints of the
+ * data model without reflection.
+ * <p>
+ * The tree is walked through the generated object descriptors, and each
+ * object is checked by its generated
+ * {@link ObjectDescriptor#validate(Object, Violations)} method. All
+ * violations are collected and returned; none is thrown. Table rows are
+ * reported under their instance number, or their position for a table that
+ * is not an {@link InstanceTable}.
+ * <p>
+ * Validators are thread safe. Use {@link #of(Class)} to obtain the shared
+ * validator of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class TreeValidator {
+
+  private static final Map<Metamodel, TreeValidator> VALIDATORS = new ConcurrentHashMap<>();
+
+  private final PathResolver resolver;
+
+  public TreeValidator(PathResolver resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared validator of the data model
+   */
+  public static TreeValidator of(Class<?> type) {
+    return VALIDATORS.computeIfAbsent(Metamodel.of(type), metamodel -> new TreeValidator(PathResolver.of(type)));
+  }
+
+  /**
+   * Check a whole tree.
+   *
+   * @param root the root entity
+   * @return the violations, empty if the tree is valid
+   * @throws IllegalArgumentException if the tree is not a root object of this
+   *                                  data model
+   */
+  public List<Violation> validate(Object root) {
+    Metamodel metamodel = resolver.getMetamodel();
+    ObjectDescriptor<?> object = metamodel.getObject(root.getClass());
+    if (object != metamodel.getRoot()) {
+      throw new IllegalArgumentException(root.getClass().getName() + " is not the root object of " + metamodel);
+    }
+    // A multi-instance root is numbered 1.
+    Violations violations = new Violations(object.getPath().replace("{i}", "1"));
+    walk(object, root, violations);
+    return violations.getViolations();
+  }
+
+  /**
+   * Check a subtree only, e.g. the objects changed by a SetParameterValues
+   * request.
+   *
+   * @param root the root entity
+   * @param path the object path of the subtree, e.g. "Device.WiFi.Radio.1."
+   * @return the violations, empty if the subtree is valid or does not exist
+   * @throws IllegalArgumentException if the path is not a valid object name
+   */
+  public List<Violation> validate(Object root, String path) {
+    InstancePath parsed = InstancePath.parse(path);
+    CompiledPath compiled = resolver.compile(parsed.getTemplate());
+    if (compiled.isParameter()) {
+      throw new IllegalArgumentException("Invalid object name " + path);
+    }
+    Object object = compiled.resolve(root, parsed);
+    if (object == null) {
+      return Collections.emptyList();
+    }
+    Violations violations = new Violations(parsed.getAliases() == null ? path : compiled.toInstancePath(root, parsed));
+    walk(compiled.getObject(), object, violations);
+    return violations.getViolations();
+  }
+
+  private static void walk(ObjectDescriptor<?> object, Object value, Violations violations) {
+    object.validate(value, violations);
+    List<ChildDescriptor> children = object.getChildren();
+    for (int i = 0; i < children.size(); i++) {
+      ChildDescriptor child = children.get(i);
+      Object childValue = object.getObject(value, child.getOrdinal());
+      ObjectDescriptor<?> target = child.getObject();
+      if (childValue == null || target == null) {
+        continue;
+      }
+      int mark = violations.mark();
+      if (child.isTable()) {
+        Collection<?> table = (Collection<?>) childValue;
+        int position = 0;
+        for (Object row : table) {
+          position++;
+          violations.enter(child.getName(), table instanceof InstanceTable
+                                            ? ((InstanceTable<?>) table).instanceNumberOf(row) : position);
+          walk(target, row, violations);
+          violations.reset(mark);
+        }
+      } else {
+        violations.enter(child.getName(), 0);
+        walk(target, childValue, violations);
+        violations.reset(mark);
+      }
+    }
+  }
+
+}
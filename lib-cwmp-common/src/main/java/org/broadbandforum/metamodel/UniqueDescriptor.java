@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a single {@code @CWMPUnique} constraint of a table.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class UniqueDescriptor {
+
+  private final boolean functional;
+  private final List<String> names;
+
+  /**
+   * @param functional the @CWMPUnique functional value
+   * @param names      the parameter names making up the unique key
+   */
+  public UniqueDescriptor(boolean functional, String... names) {
+    this.functional = functional;
+    this.names = Collections.unmodifiableList(Arrays.asList(names));
+  }
+
+  public boolean isFunctional() {
+    return functional;
+  }
+
+  public List<String> getNames() {
+    return names;
+  }
+
+  @Override
+  public String toString() {
+    return names.toString();
+  }
+
+}
@@ -0,0 +1,689 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.CompactIPAddress;
+import org.broadbandforum.common.Dbm1000;
+import org.broadbandforum.common.IEEE_EUI64;
+import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.IPPrefix;
+import org.broadbandforum.common.IPv4Address;
+import org.broadbandforum.common.IPv4Prefix;
+import org.broadbandforum.common.IPv6Address;
+import org.broadbandforum.common.IPv6Prefix;
+import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.common.StatsCounter32;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.common.UUID;
+import org.broadbandforum.common.ZigBeeNetworkAddress;
+
+/**
+ * Value comparison for parameter values.
+ * <p>
+ * The common data types, e.g. {@link Alias} and {@link MACAddress}, wrap a
+ * single value and do not define equality. {@link #key(Object)} unwraps them
+ * into a value that can be hashed and compared with {@code equals}.
+ * {@link #text(Object)} formats a parameter value as the text of a CWMP
+ * ParameterValueStruct and {@link #parse(CharSequence, Class)} converts such
+ * a text back into the parameter type.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class Values {
+
+  private Values() {
+  }
+
+  /**
+   * @param value a parameter value
+   * @return a hash key equal to the key of every equal parameter value, null
+   *         if the value is null or empty
+   */
+  public static Object key(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof String) {
+      return ((String) value).isEmpty() ? null : value;
+    }
+    if (value instanceof Alias) {
+      return key(((Alias) value).getValue());
+    }
+    if (value instanceof MACAddress) {
+      MACAddress address = (MACAddress) value;
+      return address.isAddress() ? (Object) address.longValue() : key(address.getValue());
+    }
+    if (value instanceof IPAddress) {
+      return addressKey(((IPAddress) value).getValue());
+    }
+    if (value instanceof IPPrefix) {
+      return key(((IPPrefix) value).getValue());
+    }
+    if (value instanceof UUID) {
+      return key(((UUID) value).getValue());
+    }
+    if (value instanceof IEEE_EUI64) {
+      return key(((IEEE_EUI64) value).getValue());
+    }
+    if (value instanceof ZigBeeNetworkAddress) {
+      return key(((ZigBeeNetworkAddress) value).getValue());
+    }
+    if (value instanceof StatsCounter32) {
+      return ((StatsCounter32) value).getValue();
+    }
+    if (value instanceof StatsCounter64) {
+      return ((StatsCounter64) value).getValue();
+    }
+    if (value instanceof Dbm1000) {
+      return ((Dbm1000) value).getValue();
+    }
+    if (value instanceof byte[]) {
+      return ((byte[]) value).length == 0 ? null : ByteBuffer.wrap((byte[]) value);
+    }
+    return value;
+  }
+
+  /**
+   * @param value a value of a parameter, or its text
+   * @param type  the parameter type
+   * @return the hash key of the value, converting text to the parameter type
+   *         first so that it matches the key of an equal parameter value
+   */
+  public static Object key(Object value, Class<?> type) {
+    if (value instanceof String) {
+      if (type == MACAddress.class) {
+        return key(MACAddress.of((String) value));
+      }
+      if (IPAddress.class.isAssignableFrom(type)) {
+        return addressKey((String) value);
+      }
+    }
+    return key(value);
+  }
+
+  /**
+   * @param address an IP address
+   * @return the compact address, so that all text representations of an IPv6
+   *         address are equal; the text if it is not a valid address
+   */
+  private static Object addressKey(String address) {
+    if (address == null || address.isEmpty()) {
+      return null;
+    }
+    try {
+      return CompactIPAddress.parse(address);
+    } catch (IllegalArgumentException ex) {
+      return address;
+    }
+  }
+
+  /**
+   * @param values the values of a composite key
+   * @return a hash key equal to the key of every equal list of values, null
+   *         if any value is null or empty
+   */
+  public static Object compositeKey(Object... values) {
+    Object[] keys = new Object[values.length];
+    for (int i = 0; i < values.length; i++) {
+      keys[i] = key(values[i]);
+      if (keys[i] == null) {
+        return null;
+      }
+    }
+    return Arrays.asList(keys);
+  }
+
+  /**
+   * @param value a parameter value
+   * @return the CWMP text of the value, e.g. "2018-02-20T14:52:26Z" for a
+   *         dateTime or a comma-separated list for a list parameter; null if
+   *         the value is null or not available
+   */
+  public static String text(Object value) {
+    if (value == null || value instanceof String) {
+      return (String) value;
+    }
+    if (value instanceof Number || value instanceof Boolean) {
+      return value.toString();
+    }
+    if (value instanceof Alias) {
+      return ((Alias) value).getValue();
+    }
+    if (value instanceof MACAddress) {
+      return ((MACAddress) value).getValue();
+    }
+    if (value instanceof IPAddress) {
+      return ((IPAddress) value).getValue();
+    }
+    if (value instanceof IPPrefix) {
+      return ((IPPrefix) value).getValue();
+    }
+    if (value instanceof LocalDateTime) {
+      return CWMPDateTime.format((LocalDateTime) value);
+    }
+    if (value instanceof StatsCounter32) {
+      StatsCounter32 counter = (StatsCounter32) value;
+      return counter.isAvailable() ? Long.toString(counter.longValue()) : null;
+    }
+    if (value instanceof StatsCounter64) {
+      StatsCounter64 counter = (StatsCounter64) value;
+      return counter.isAvailable() ? Long.toUnsignedString(counter.longValue()) : null;
+    }
+    if (value instanceof Dbm1000) {
+      Integer dbm = ((Dbm1000) value).getValue();
+      return dbm == null ? null : dbm.toString();
+    }
+    if (value instanceof UUID) {
+      return ((UUID) value).getValue();
+    }
+    if (value instanceof IEEE_EUI64) {
+      return ((IEEE_EUI64) value).getValue();
+    }
+    if (value instanceof ZigBeeNetworkAddress) {
+      return ((ZigBeeNetworkAddress) value).getValue();
+    }
+    if (value instanceof byte[]) {
+      return Base64.getEncoder().encodeToString((byte[]) value);
+    }
+    if (value instanceof Enum) {
+      return ((Enum<?>) value).name();
+    }
+    if (value instanceof Collection) {
+      StringBuilder list = new StringBuilder();
+      for (Object item : (Collection<?>) value) {
+        String text = text(item);
+        if (text != null) {
+          if (list.length() > 0) {
+            list.append(',');
+          }
+          list.append(text);
+        }
+      }
+      return list.toString();
+    }
+    return value.toString();
+  }
+
+  /**
+   * Copy a parameter value so that the copy shares no mutable state with it.
+   *
+   * @param value a parameter value, may be null
+   * @return the copy; immutable values, e.g. Strings, numbers and dateTimes,
+   *         are returned as is
+   */
+  public static Object copy(Object value) {
+    if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+        || value instanceof LocalDateTime || value instanceof Enum) {
+      return value;
+    }
+    if (value instanceof Alias) {
+      String alias = ((Alias) value).getValue();
+      return alias == null ? new Alias() : Alias.valueOf(alias);
+    }
+    if (value instanceof StatsCounter32) {
+      Long counter = ((StatsCounter32) value).getValue();
+      return counter == null ? new StatsCounter32() : StatsCounter32.valueOf(counter);
+    }
+    if (value instanceof StatsCounter64) {
+      Long counter = ((StatsCounter64) value).getValue();
+      return counter == null ? new StatsCounter64() : StatsCounter64.valueOf(counter);
+    }
+    if (value instanceof MACAddress) {
+      MACAddress address = (MACAddress) value;
+      return address.isAddress() && !address.isMixedCase()
+             ? MACAddress.valueOf(address.longValue(), address.isUpperCase())
+             : new MACAddress().withValue(address.getValue());
+    }
+    if (value instanceof Dbm1000) {
+      return new Dbm1000().withValue(((Dbm1000) value).getValue());
+    }
+    if (value instanceof IPAddress || value instanceof IPPrefix || value instanceof UUID
+        || value instanceof IEEE_EUI64 || value instanceof ZigBeeNetworkAddress) {
+      return wrap(text(value), value.getClass());
+    }
+    if (value instanceof byte[]) {
+      return ((byte[]) value).clone();
+    }
+    if (value instanceof Collection) {
+      List<Object> items = new ArrayList<>(((Collection<?>) value).size());
+      for (Object item : (Collection<?>) value) {
+        items.add(copy(item));
+      }
+      return items;
+    }
+    return value;
+  }
+
+  /**
+   * Compare two parameter values. The common data types backed by a String,
+   * e.g. {@link IPAddress}, compare by their text; byte arrays and lists
+   * compare item by item.
+   *
+   * @param a a parameter value, may be null
+   * @param b a parameter value, may be null
+   * @return true if the values are equal
+   */
+  public static boolean equal(Object a, Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null) {
+      return false;
+    }
+    if (a instanceof Collection && b instanceof Collection) {
+      Collection<?> first = (Collection<?>) a;
+      Collection<?> second = (Collection<?>) b;
+      if (first.size() != second.size()) {
+        return false;
+      }
+      Iterator<?> iterator = second.iterator();
+      for (Object item : first) {
+        if (!equal(item, iterator.next())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a.getClass() != b.getClass()) {
+      return false;
+    }
+    if (a instanceof byte[]) {
+      return Arrays.equals((byte[]) a, (byte[]) b);
+    }
+    if (a instanceof IPAddress || a instanceof IPPrefix || a instanceof Dbm1000 || a instanceof UUID
+        || a instanceof IEEE_EUI64 || a instanceof ZigBeeNetworkAddress) {
+      return Objects.equals(text(a), text(b));
+    }
+    return a.equals(b);
+  }
+
+  /**
+   * Convert the CWMP text of a parameter value into the parameter type.
+   * Numbers, booleans and dateTimes are parsed from the characters without
+   * creating a String.
+   *
+   * @param text the text, e.g. "true" or "2018-02-20T14:52:26Z"
+   * @param type the parameter type
+   * @return the value; null if the text is empty and the type has no empty
+   *         value, e.g. a number
+   * @throws IllegalArgumentException if the text is not a valid value of the
+   *                                  type
+   */
+  public static Object parse(CharSequence text, Class<?> type) {
+    if (type == String.class) {
+      return text.toString();
+    }
+    if (type == Alias.class) {
+      return Alias.valueOf(text.toString());
+    }
+    if (type == MACAddress.class) {
+      return MACAddress.of(text.toString());
+    }
+    if (IPAddress.class.isAssignableFrom(type) || IPPrefix.class.isAssignableFrom(type)
+        || type == UUID.class || type == IEEE_EUI64.class || type == ZigBeeNetworkAddress.class) {
+      return wrap(text.toString(), type);
+    }
+    int start = 0;
+    int end = text.length();
+    while (start < end && Character.isWhitespace(text.charAt(start))) {
+      start++;
+    }
+    while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+      end--;
+    }
+    if (start == end) {
+      return null;
+    }
+    if (type == Long.class) {
+      return parseLong(text, start, end, false);
+    }
+    if (type == Integer.class) {
+      long value = parseLong(text, start, end, false);
+      if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid int " + text);
+      }
+      return (int) value;
+    }
+    if (type == Boolean.class) {
+      return parseBoolean(text, start, end);
+    }
+    if (type == LocalDateTime.class) {
+      return CWMPDateTime.parse(text.subSequence(start, end));
+    }
+    if (type == StatsCounter64.class) {
+      return StatsCounter64.valueOf(parseLong(text, start, end, true));
+    }
+    if (type == StatsCounter32.class) {
+      long value = parseLong(text, start, end, true);
+      if (value < 0 || value > StatsCounter32.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid unsignedInt " + text);
+      }
+      return StatsCounter32.valueOf(value);
+    }
+    if (type == Dbm1000.class) {
+      return new Dbm1000().withValue((Integer) parse(text, Integer.class));
+    }
+    if (type == byte[].class) {
+      return Base64.getMimeDecoder().decode(text.subSequence(start, end).toString());
+    }
+    if (type.isEnum()) {
+      String name = text.subSequence(start, end).toString();
+      for (Object constant : type.getEnumConstants()) {
+        if (((Enum<?>) constant).name().equals(name)) {
+          return constant;
+        }
+      }
+      throw new IllegalArgumentException("Invalid " + type.getSimpleName() + " " + name);
+    }
+    throw new IllegalArgumentException("Unsupported parameter type " + type.getName());
+  }
+
+  /**
+   * Convert the CWMP text of a comma-separated list parameter.
+   *
+   * @param text the text, e.g. "Device.IP.Interface.1,Device.IP.Interface.2"
+   * @param type the list item type
+   * @return the list items, empty if the text is empty
+   * @throws IllegalArgumentException if an item is not a valid value of the
+   *                                  type
+   */
+  public static List<Object> parseList(CharSequence text, Class<?> type) {
+    List<Object> items = new ArrayList<>();
+    int length = text.length();
+    int start = 0;
+    while (start < length) {
+      int end = start;
+      while (end < length && text.charAt(end) != ',') {
+        end++;
+      }
+      int from = start;
+      int to = end;
+      while (from < to && Character.isWhitespace(text.charAt(from))) {
+        from++;
+      }
+      while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+        to--;
+      }
+      if (from < to) {
+        items.add(parse(text.subSequence(from, to), type));
+      }
+      start = end + 1;
+    }
+    return items;
+  }
+
+  /**
+   * Parse a comma-separated list of integers, e.g. the per sub-carrier values
+   * of {@code Device.DSL.Line.{i}.TestParams.SNRpsus}, without creating a
+   * String per item. Empty items are skipped.
+   *
+   * @param text   the list text
+   * @param values receives the values; only the first {@code values.length}
+   *               values are stored
+   * @return the number of values in the text, which may exceed the length of
+   *         the array
+   * @throws IllegalArgumentException if an item is not an int
+   */
+  public static int parseInts(CharSequence text, int[] values) {
+    return parseInts(text, values, 0);
+  }
+
+  /**
+   * @param text the comma-separated list text
+   * @return the values
+   * @throws IllegalArgumentException if an item is not an int
+   */
+  public static int[] parseIntArray(CharSequence text) {
+    int[] values = new int[countItems(text)];
+    int count = parseInts(text, values, 0);
+    return count == values.length ? values : Arrays.copyOf(values, count);
+  }
+
+  /**
+   * @param text the comma-separated list text
+   * @return the values
+   * @throws IllegalArgumentException if an item is not a short
+   */
+  public static short[] parseShortArray(CharSequence text) {
+    int[] values = parseIntArray(text);
+    short[] shorts = new short[values.length];
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] < Short.MIN_VALUE || values[i] > Short.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid number " + values[i]);
+      }
+      shorts[i] = (short) values[i];
+    }
+    return shorts;
+  }
+
+  /**
+   * Read the value of a list parameter as integers. Each item may be a
+   * Number, or text holding one or more comma-separated integers, as a
+   * JAXB-unmarshalled list holds them.
+   *
+   * @param list the list parameter value, may be null
+   * @return the values, null if the list is null
+   * @throws IllegalArgumentException if an item is not an int
+   */
+  public static int[] toIntArray(Collection<?> list) {
+    if (list == null) {
+      return null;
+    }
+    int[] values = new int[list.size()];
+    int size = 0;
+    for (Object item : list) {
+      if (item instanceof Number) {
+        if (size == values.length) {
+          values = Arrays.copyOf(values, size * 2 + 1);
+        }
+        values[size++] = toInt(((Number) item).longValue());
+      } else if (item != null) {
+        CharSequence text = item instanceof CharSequence ? (CharSequence) item : text(item);
+        int count = parseInts(text, values, size);
+        if (size + count > values.length) {
+          values = Arrays.copyOf(values, Math.max(values.length * 2, size + count));
+          parseInts(text, values, size);
+        }
+        size += count;
+      }
+    }
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+
+  /**
+   * @return the number of values in the text, storing those that fit into
+   *         the array from the offset
+   */
+  private static int parseInts(CharSequence text, int[] values, int offset) {
+    int length = text.length();
+    int count = 0;
+    int i = 0;
+    while (i < length) {
+      char c = text.charAt(i);
+      while (c != ',' && Character.isWhitespace(c) && ++i < length) {
+        c = text.charAt(i);
+      }
+      if (i == length || c == ',') {
+        // An empty item.
+        i++;
+        continue;
+      }
+      boolean negative = c == '-';
+      if (negative || c == '+') {
+        i++;
+      }
+      int digits = i;
+      long value = 0;
+      while (i < length && (c = text.charAt(i)) >= '0' && c <= '9') {
+        value = value * 10 + (c - '0');
+        if (value > 1L + Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("Invalid number " + text);
+        }
+        i++;
+      }
+      while (i < length && (c = text.charAt(i)) != ',' && Character.isWhitespace(c)) {
+        i++;
+      }
+      if (i == digits || i < length && text.charAt(i) != ',') {
+        throw new IllegalArgumentException("Invalid number " + text);
+      }
+      int item = toInt(negative ? -value : value);
+      if (offset + count < values.length) {
+        values[offset + count] = item;
+      }
+      count++;
+      i++;
+    }
+    return count;
+  }
+
+  /**
+   * @return an upper bound of the number of items of a comma-separated list
+   */
+  private static int countItems(CharSequence text) {
+    int count = 1;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) == ',') {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int toInt(long value) {
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid number " + value);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Create a String-backed common data type, e.g. an {@link IPv4Address}.
+   */
+  private static Object wrap(String text, Class<?> type) {
+    if (type == IPv4Address.class) {
+      return new IPv4Address().withValue(text);
+    }
+    if (type == IPv6Address.class) {
+      return new IPv6Address().withValue(text);
+    }
+    if (type == IPAddress.class) {
+      return new IPAddress().withValue(text);
+    }
+    if (type == IPv4Prefix.class) {
+      return new IPv4Prefix().withValue(text);
+    }
+    if (type == IPv6Prefix.class) {
+      return new IPv6Prefix().withValue(text);
+    }
+    if (type == IPPrefix.class) {
+      return new IPPrefix().withValue(text);
+    }
+    if (type == UUID.class) {
+      return new UUID().withValue(text);
+    }
+    if (type == IEEE_EUI64.class) {
+      return new IEEE_EUI64().withValue(text);
+    }
+    return new ZigBeeNetworkAddress().withValue(text);
+  }
+
+  /**
+   * @param unsigned true to accept values up to 2^64-1, wrapped into negative
+   *                 longs as by {@link Long#parseUnsignedLong(String)}
+   */
+  private static long parseLong(CharSequence text, int start, int end, boolean unsigned) {
+    boolean negative = false;
+    int i = start;
+    char first = text.charAt(i);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      if (++i == end || unsigned && negative) {
+        throw new IllegalArgumentException("Invalid number " + text);
+      }
+    }
+    long value = 0;
+    for (; i < end; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new IllegalArgumentException("Invalid number " + text);
+      }
+      if (unsigned) {
+        if (Long.compareUnsigned(value, Long.divideUnsigned(-1L, 10)) > 0) {
+          throw new IllegalArgumentException("Invalid number " + text);
+        }
+        long next = value * 10 + digit;
+        if (Long.compareUnsigned(next, value * 10) < 0) {
+          throw new IllegalArgumentException("Invalid number " + text);
+        }
+        value = next;
+      } else {
+        // Accumulate negatively to reach Long.MIN_VALUE.
+        if (value < (Long.MIN_VALUE + digit) / 10) {
+          throw new IllegalArgumentException("Invalid number " + text);
+        }
+        value = value * 10 - digit;
+      }
+    }
+    if (unsigned) {
+      return value;
+    }
+    if (!negative && value == Long.MIN_VALUE) {
+      throw new IllegalArgumentException("Invalid number " + text);
+    }
+    return negative ? value : -value;
+  }
+
+  /**
+   * @return the xsd:boolean value of "true", "false", "1" or "0"
+   */
+  private static Boolean parseBoolean(CharSequence text, int start, int end) {
+    int length = end - start;
+    if (length == 1) {
+      char c = text.charAt(start);
+      if (c == '1' || c == '0') {
+        return c == '1';
+      }
+    } else if (length == 4 && regionMatches(text, start, "true")) {
+      return Boolean.TRUE;
+    } else if (length == 5 && regionMatches(text, start, "false")) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException("Invalid boolean " + text);
+  }
+
+  private static boolean regionMatches(CharSequence text, int start, String expected) {
+    for (int i = 0; i < expected.length(); i++) {
+      if (text.charAt(start + i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+/**
+ * A parameter value or table violating a constraint of the data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class Violation {
+
+  private final String path;
+  private final Object value;
+  private final String message;
+
+  Violation(String path, Object value, String message) {
+    this.path = path;
+    this.value = value;
+    this.message = message;
+  }
+
+  /**
+   * @return the parameter or table path, e.g.
+   *         "Device.WiFi.Radio.1.Channel" or "Device.WiFi.AccessPoint.1.WEPKey."
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * @return the invalid value, or the table collection
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * @return the violated constraint, e.g. "must be between 1 and 165"
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return path + " " + message;
+  }
+
+}
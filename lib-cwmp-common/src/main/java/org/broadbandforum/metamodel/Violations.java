@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the constraint violations of an entity tree.
+ * <p>
+ * The check methods are called by the {@code validate} method generated into
+ * every object descriptor, one call per constrained parameter or table, with
+ * the constraint bounds and the precompiled {@code Pattern}s as constants.
+ * A check that passes allocates nothing: the path of the violating parameter
+ * is built from the current object path only when a violation is recorded.
+ * <p>
+ * Mirroring the {@code javax.validation} annotations of the entity classes,
+ * {@code @Size} bounds the length of a string, the length of the
+ * comma-separated text of a list, or the value of a number. A null value
+ * satisfies every constraint.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class Violations {
+
+  /**
+   * The path of the object being checked, e.g. "Device.WiFi.Radio.1.".
+   */
+  private final StringBuilder path;
+  private List<Violation> violations;
+
+  /**
+   * @param path the path of the object to check, e.g. "Device.WiFi.Radio.1."
+   */
+  public Violations(String path) {
+    this.path = new StringBuilder(64).append(path);
+  }
+
+  /**
+   * @return the violations in the order they were found
+   */
+  public List<Violation> getViolations() {
+    return violations == null ? Collections.emptyList() : Collections.unmodifiableList(violations);
+  }
+
+  /**
+   * @return true if no violation was found
+   */
+  public boolean isEmpty() {
+    return violations == null;
+  }
+
+  /**
+   * Check the length of a string.
+   *
+   * @param name  the parameter name
+   * @param value the value, may be null
+   * @param min   the minimum length
+   * @param max   the maximum length
+   */
+  public void length(String name, String value, int min, int max) {
+    if (value != null && (value.length() < min || value.length() > max)) {
+      add(name, value, "length must be between " + min + " and " + max);
+    }
+  }
+
+  /**
+   * Check the length of the comma-separated text of a list.
+   *
+   * @param name  the parameter name
+   * @param value the list items, may be null
+   * @param min   the minimum length
+   * @param max   the maximum length
+   */
+  public void listLength(String name, Collection<?> value, int min, int max) {
+    if (value == null) {
+      return;
+    }
+    int length = value.isEmpty() ? 0 : value.size() - 1;
+    for (Object item : value) {
+      length += item == null ? 0 : item.toString().length();
+    }
+    if (length < min || length > max) {
+      add(name, value, "length must be between " + min + " and " + max);
+    }
+  }
+
+  /**
+   * Check the value of a number.
+   *
+   * @param name  the parameter name
+   * @param value the value, may be null
+   * @param min   the minimum value, inclusive
+   * @param max   the maximum value, inclusive
+   */
+  public void range(String name, Number value, long min, long max) {
+    if (value != null && (value.longValue() < min || value.longValue() > max)) {
+      add(name, value, "must be between " + min + " and " + max);
+    }
+  }
+
+  /**
+   * Check that a string matches a regular expression.
+   *
+   * @param name    the parameter name
+   * @param value   the value, may be null
+   * @param pattern the precompiled pattern, matching the entire value
+   */
+  public void pattern(String name, String value, Pattern pattern) {
+    if (value != null && !pattern.matcher(value).matches()) {
+      add(name, value, "must match \"" + pattern.pattern() + "\"");
+    }
+  }
+
+  /**
+   * Check that every item of a list matches a regular expression.
+   *
+   * @param name    the parameter name
+   * @param value   the list items, may be null
+   * @param pattern the precompiled pattern, matching an entire item
+   */
+  public void pattern(String name, Collection<String> value, Pattern pattern) {
+    if (value != null) {
+      for (String item : value) {
+        if (item != null && !pattern.matcher(item).matches()) {
+          add(name, value, "items must match \"" + pattern.pattern() + "\"");
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Record the result of an {@code @AssertTrue} method of a common data type,
+   * e.g. {@code MACAddress.isValid()}.
+   *
+   * @param name  the parameter name
+   * @param value the value
+   * @param valid the result of the check, true if the value is null
+   */
+  public void valid(String name, Object value, boolean valid) {
+    if (!valid) {
+      add(name, value, "must be valid");
+    }
+  }
+
+  /**
+   * Check the number of rows of a table. A table that is not set is not
+   * checked, since a partial tree need not hold every table.
+   *
+   * @param name  the table path segment, e.g. "WEPKey"
+   * @param table the table collection, may be null
+   * @param min   the minEntries of the table
+   * @param max   the maxEntries of the table
+   */
+  public void entries(String name, Collection<?> table, int min, int max) {
+    if (table != null && (table.size() < min || table.size() > max)) {
+      add(name + ".", table, "must have between " + min + " and " + max + " entries");
+    }
+  }
+
+  /**
+   * @return the length of the current object path
+   */
+  int mark() {
+    return path.length();
+  }
+
+  /**
+   * Descend into a child object or table row.
+   *
+   * @param segment  the path segment
+   * @param instance the instance number of a table row, 0 for a single
+   *                 instance object
+   */
+  void enter(String segment, int instance) {
+    path.append(segment).append('.');
+    if (instance > 0) {
+      path.append(instance).append('.');
+    }
+  }
+
+  /**
+   * Return to the object path of an earlier {@link #mark()}.
+   */
+  void reset(int mark) {
+    path.setLength(mark);
+  }
+
+  private void add(String name, Object value, String message) {
+    if (violations == null) {
+      violations = new ArrayList<>();
+    }
+    violations.add(new Violation(path + name, value, message));
+  }
+
+}
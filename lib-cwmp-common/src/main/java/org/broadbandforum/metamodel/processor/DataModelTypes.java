@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the declared xsd type of every parameter from the full XML of a
+ * Broadband Forum data model, e.g. {@code tr-181-2-10-full.xml}.
+ * <p>
+ * The entity classes keep only the Java type of a parameter, and a
+ * {@code Long} holds an unsignedInt, an unsignedLong or a long alike. The
+ * syntax of the parameter in the data model tells them apart. Named data
+ * types are resolved through their base type, and list valued parameters
+ * are strings. The values of the string enumerations are collected too, as
+ * the shared dictionary of the snapshots of the data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+final class DataModelTypes {
+
+  /**
+   * The data model primitive types, the xsd type has the same name except
+   * for base64.
+   */
+  private static final Set<String> PRIMITIVES = new HashSet<>(Arrays.asList(
+    "base64", "boolean", "dateTime", "decimal", "hexBinary", "int", "long", "string", "unsignedInt", "unsignedLong"));
+
+  /**
+   * The primitive type or the referenced data type name of each parameter,
+   * by object path and parameter name, e.g.
+   * "Device.DSL.Line.{i}.Stats.BytesSent".
+   */
+  private final Map<String, String> parameters = new HashMap<>();
+  /**
+   * The primitive type or the base data type name of each named data type.
+   */
+  private final Map<String, String> dataTypes = new HashMap<>();
+  /**
+   * The number of enumerations declaring each value, in document order.
+   */
+  private final Map<String, Integer> enumerations = new LinkedHashMap<>();
+
+  private DataModelTypes() {
+  }
+
+  /**
+   * @param files the data model XML files
+   * @return the parameter types of all data models in the files
+   * @throws IOException if a file cannot be read or parsed
+   */
+  static DataModelTypes read(Iterable<String> files) throws IOException {
+    DataModelTypes types = new DataModelTypes();
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    for (String file : files) {
+      try (InputStream in = Files.newInputStream(Paths.get(file))) {
+        types.read(factory.createXMLStreamReader(in));
+      } catch (XMLStreamException exception) {
+        throw new IOException(file + ": " + exception.getMessage(), exception);
+      }
+    }
+    return types;
+  }
+
+  /**
+   * Read the dataType definitions, the object parameters and the
+   * enumeration values. The syntax of a parameter and the definition of a
+   * data type are their first child that is a primitive type, a list or a
+   * data type reference.
+   */
+  private void read(XMLStreamReader reader) throws XMLStreamException {
+    String object = null;
+    String parameter = null;
+    String dataType = null;
+    int depth = 0;
+    int syntaxDepth = -1;
+    int dataTypeDepth = -1;
+    boolean typed = false;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        String element = reader.getLocalName();
+        if (depth == syntaxDepth) {
+          syntaxDepth = -1;
+        } else if (depth == dataTypeDepth) {
+          dataTypeDepth = -1;
+          dataType = null;
+        } else if (element.equals("parameter")) {
+          parameter = null;
+        } else if (element.equals("object")) {
+          object = null;
+        }
+        depth--;
+        continue;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      depth++;
+      String element = reader.getLocalName();
+      if (element.equals("enumeration")) {
+        String value = reader.getAttributeValue(null, "value");
+        if (value != null) {
+          enumerations.merge(value, 1, Integer::sum);
+        }
+      } else if (syntaxDepth >= 0 || dataTypeDepth >= 0) {
+        if (typed || depth != (syntaxDepth >= 0 ? syntaxDepth : dataTypeDepth) + 1) {
+          continue;
+        }
+        String type = element.equals("list") ? "string"
+                      : element.equals("dataType") ? reader.getAttributeValue(null, "ref")
+                      : PRIMITIVES.contains(element) ? element : null;
+        if (type != null) {
+          typed = true;
+          if (syntaxDepth >= 0) {
+            parameters.put(object + parameter, type);
+          } else {
+            dataTypes.put(dataType, type);
+          }
+        }
+      } else if (element.equals("object")) {
+        object = name(reader);
+      } else if (element.equals("parameter") && object != null) {
+        parameter = name(reader);
+      } else if (element.equals("syntax") && parameter != null) {
+        syntaxDepth = depth;
+        typed = false;
+      } else if (element.equals("dataType") && object == null && name(reader) != null) {
+        dataType = name(reader);
+        dataTypeDepth = depth;
+        String base = reader.getAttributeValue(null, "base");
+        typed = base != null;
+        if (typed) {
+          dataTypes.put(dataType, base);
+        }
+      }
+    }
+  }
+
+  private static String name(XMLStreamReader reader) {
+    String name = reader.getAttributeValue(null, "name");
+    return name == null ? reader.getAttributeValue(null, "base") : name;
+  }
+
+  /**
+   * @param path      the object path template, e.g. "Device.DSL.Line.{i}.Stats."
+   * @param parameter the parameter name, e.g. "BytesSent"
+   * @return the xsd type, e.g. "xsd:unsignedLong", null if the parameter or
+   *         its data type is not defined
+   */
+  String xsdType(String path, String parameter) {
+    String type = parameters.get(path + parameter);
+    for (int i = 0; type != null && !PRIMITIVES.contains(type) && i < 16; i++) {
+      type = dataTypes.get(type);
+    }
+    if (type == null || !PRIMITIVES.contains(type)) {
+      return null;
+    }
+    return type.equals("base64") ? "xsd:base64Binary" : "xsd:" + type;
+  }
+
+  /**
+   * @return the distinct values of the string enumerations, the values
+   *         declared by the most enumerations first, e.g. "Error" and
+   *         "Disabled"
+   */
+  List<String> enumerationValues() {
+    List<String> values = new ArrayList<>(enumerations.keySet());
+    values.sort(Comparator.comparingInt((String value) -> enumerations.get(value)).reversed());
+    return values;
+  }
+
+}
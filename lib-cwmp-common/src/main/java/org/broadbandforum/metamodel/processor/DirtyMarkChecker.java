@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel.processor;
+
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Checks the {@code dirty.set(ordinal)} statements of the hand written
+ * setters of a tracked entity class against the parameter ordinals of the
+ * generated descriptor.
+ * <p>
+ * A method is checked if it marks a parameter or if it is the {@code set} or
+ * {@code with} method of a parameter. It must mark exactly the parameters it
+ * assigns, or whose getter it calls, plus the parameter it is named after.
+ * A method of an indexed entity that changes a unique key parameter must also
+ * call {@code table.reindex(this)}. Mismatches are reported as compile
+ * errors. The check reads the method
+ * bodies through the javac tree API.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+final class DirtyMarkChecker {
+
+  private final ProcessingEnvironment processingEnv;
+  private final Trees trees;
+
+  private DirtyMarkChecker(ProcessingEnvironment processingEnv, Trees trees) {
+    this.processingEnv = processingEnv;
+    this.trees = trees;
+  }
+
+  /**
+   * @return the checker, null if the compiler is not javac
+   */
+  static DirtyMarkChecker of(ProcessingEnvironment processingEnv) {
+    try {
+      return new DirtyMarkChecker(processingEnv, Trees.instance(processingEnv));
+    } catch (IllegalArgumentException exception) {
+      return null;
+    }
+  }
+
+  /**
+   * Check the methods of an entity class.
+   *
+   * @param type     the entity class
+   * @param ordinals the parameter ordinals by field name
+   * @param keys     the ordinals of the unique key parameters the setters
+   *                 must reindex, empty if the entity is not indexed
+   */
+  void check(TypeElement type, Map<String, Integer> ordinals, Set<Integer> keys) {
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      MethodTree tree = trees.getTree(method);
+      if (tree == null || tree.getBody() == null) {
+        continue;
+      }
+      String named = parameterOf(method.getSimpleName().toString(), ordinals, "set", "with");
+      Scanner scanner = new Scanner(method, ordinals);
+      scanner.scan(tree.getBody(), null);
+      if (scanner.marked.isEmpty() && named == null) {
+        continue;
+      }
+      Set<Integer> expected = scanner.expected;
+      if (named != null) {
+        expected.add(ordinals.get(named));
+      }
+      if (!scanner.marked.equals(expected)) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "The method marks the parameter ordinals "
+                                                 + scanner.marked + " instead of " + expected, method);
+      }
+      if (!scanner.reindexed && !Collections.disjoint(expected, keys)) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "The method changes a unique key but does not call table.reindex(this)", method);
+      }
+    }
+  }
+
+  /**
+   * @return the parameter field a method is named after with one of the
+   *         prefixes, null if none
+   */
+  private static String parameterOf(String name, Map<String, Integer> ordinals, String... prefixes) {
+    for (String prefix : prefixes) {
+      if (name.length() > prefix.length() && name.startsWith(prefix)) {
+        String field = Character.toLowerCase(name.charAt(prefix.length())) + name.substring(prefix.length() + 1);
+        if (ordinals.containsKey(field)) {
+          return field;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the field name if the expression is {@code name} or
+   *         {@code this.name}, otherwise null
+   */
+  private static String fieldOf(ExpressionTree tree) {
+    if (tree instanceof IdentifierTree) {
+      return ((IdentifierTree) tree).getName().toString();
+    }
+    if (tree instanceof MemberSelectTree && ((MemberSelectTree) tree).getExpression().toString().equals("this")) {
+      return ((MemberSelectTree) tree).getIdentifier().toString();
+    }
+    return null;
+  }
+
+  /**
+   * Collects the marked ordinals and the assigned or read parameters of a
+   * method body.
+   */
+  private static final class Scanner extends TreeScanner<Void, Void> {
+
+    private final Map<String, Integer> ordinals;
+    private final Set<String> locals = new TreeSet<>();
+    final Set<Integer> marked = new TreeSet<>();
+    final Set<Integer> expected = new TreeSet<>();
+    boolean reindexed;
+
+    Scanner(ExecutableElement method, Map<String, Integer> ordinals) {
+      this.ordinals = ordinals;
+      for (VariableElement parameter : method.getParameters()) {
+        locals.add(parameter.getSimpleName().toString());
+      }
+    }
+
+    @Override
+    public Void visitAssignment(AssignmentTree tree, Void p) {
+      String field = fieldOf(tree.getVariable());
+      if (field != null && ordinals.containsKey(field)
+          && (tree.getVariable() instanceof MemberSelectTree || !locals.contains(field))) {
+        expected.add(ordinals.get(field));
+      }
+      return super.visitAssignment(tree, p);
+    }
+
+    @Override
+    public Void visitMethodInvocation(MethodInvocationTree tree, Void p) {
+      ExpressionTree select = tree.getMethodSelect();
+      if (select instanceof MemberSelectTree && ((MemberSelectTree) select).getIdentifier().contentEquals("set")
+          && "dirty".equals(fieldOf(((MemberSelectTree) select).getExpression()))) {
+        ExpressionTree argument = tree.getArguments().size() == 1 ? tree.getArguments().get(0) : null;
+        marked.add(argument instanceof LiteralTree && ((LiteralTree) argument).getValue() instanceof Integer
+                   ? (Integer) ((LiteralTree) argument).getValue() : -1);
+      } else if (select instanceof MemberSelectTree && ((MemberSelectTree) select).getIdentifier().contentEquals("reindex")
+                 && "table".equals(fieldOf(((MemberSelectTree) select).getExpression()))) {
+        reindexed = true;
+      } else if (tree.getArguments().isEmpty()) {
+        String method = fieldOf(select);
+        String field = method == null ? null : parameterOf(method, ordinals, "get", "is");
+        if (field != null) {
+          expected.add(ordinals.get(field));
+        }
+      }
+      return super.visitMethodInvocation(tree, p);
+    }
+  }
+
+}
@@ -0,0 +1,1061 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.annotation.CWMPUnique;
+
+/**
+ * Annotation processor generating the static CWMP metamodel of an entity
+ * module.
+ * <p>
+ * For every class annotated with {@code @CWMPObject} an
+ * {@code ObjectDescriptor} named after the class with a trailing underscore is
+ * generated in the same package. For every root object (e.g. {@code Device.})
+ * a {@code Metamodel} named after the root class is generated and registered in
+ * {@code META-INF/services}. The processor is picked up automatically by javac
+ * in every module that depends upon lib-cwmp-common.
+ * <p>
+ * The {@code @Size}, {@code @Pattern} and min/maxEntries constraints of an
+ * entity are compiled into the {@code validate} method of its descriptor,
+ * together with the constraints of the common data types it holds: the
+ * {@code @Size} and {@code @Pattern} of their {@code @XmlValue} text and
+ * their {@code @AssertTrue} methods (e.g. {@code MACAddress.isValid()}). The
+ * descriptor of a root object also reads the {@code forcedInform} parameters
+ * of its tree in {@code getForcedInform}.
+ * <p>
+ * The {@code dirty.set(ordinal)} statements of the setters of a tracked
+ * entity are checked against the parameter ordinals, see
+ * {@link DirtyMarkChecker}, as is the reindexing of a row by the setters of
+ * its unique key parameters.
+ * <p>
+ * With the option {@code -Acwmp.compact=true} a {@code CompactObject} named
+ * after each entity class with a trailing {@code Compact} is also generated.
+ * <p>
+ * The xsi:type of each parameter is read from the data model XML files named
+ * by the option {@code -Acwmp.dataModel=<files>}, see {@link DataModelTypes}.
+ * A parameter the data model does not define is typed by its Java type and
+ * {@code @Size} bounds: a {@code Long} is an unsignedInt, or a long if its
+ * minimum is negative. The enumeration values of the data model are
+ * returned by {@code Metamodel.getEnumerationValues()}.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+@SupportedAnnotationTypes("org.broadbandforum.annotation.CWMPObject")
+@SupportedOptions({MetamodelProcessor.COMPACT, MetamodelProcessor.DATA_MODEL})
+public class MetamodelProcessor extends AbstractProcessor {
+
+  /**
+   * The option enabling the compact entity flavor.
+   */
+  static final String COMPACT = "cwmp.compact";
+  /**
+   * The option naming the comma separated data model XML files the xsd
+   * types of the parameters are read from.
+   */
+  static final String DATA_MODEL = "cwmp.dataModel";
+
+  private static final String XML_ELEMENT = "javax.xml.bind.annotation.XmlElement";
+  private static final String SIZE = "javax.validation.constraints.Size";
+  private static final String PATTERN = "javax.validation.constraints.Pattern";
+  private static final String ASSERT_TRUE = "javax.validation.constraints.AssertTrue";
+  private static final String XML_VALUE = "javax.xml.bind.annotation.XmlValue";
+  private static final String METAMODEL = "org.broadbandforum.metamodel";
+  private static final String COMMON = "org.broadbandforum.common";
+
+  /**
+   * The checker of the dirty marks of the entity setters, null if the
+   * compiler does not expose its trees.
+   */
+  private DirtyMarkChecker checker;
+  /**
+   * The parameter types of the data model, null if no data model is given.
+   */
+  private DataModelTypes dataModel;
+
+  @Override
+  public synchronized void init(ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    try {
+      checker = DirtyMarkChecker.of(processingEnv);
+    } catch (LinkageError error) {
+      checker = null;
+    }
+    if (checker == null) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "The dirty marks of the entity setters are not checked");
+    }
+    String files = processingEnv.getOptions().get(DATA_MODEL);
+    if (files != null && !files.trim().isEmpty()) {
+      try {
+        dataModel = DataModelTypes.read(Arrays.asList(files.trim().split("\\s*,\\s*")));
+      } catch (IOException exception) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "CWMP data model not read: " + exception.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (annotations.isEmpty()) {
+      return false;
+    }
+    // Collect the entity classes and group them by root path segment.
+    Map<String, List<Entity>> modules = new LinkedHashMap<>();
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(CWMPObject.class))) {
+      if (type.getKind() != ElementKind.CLASS) {
+        continue;
+      }
+      Entity entity = new Entity(type);
+      String root = entity.path.substring(0, entity.path.indexOf('.'));
+      modules.computeIfAbsent(root, k -> new ArrayList<>()).add(entity);
+    }
+    boolean compact = Boolean.parseBoolean(processingEnv.getOptions().get(COMPACT));
+    List<String> services = new ArrayList<>();
+    for (List<Entity> entities : modules.values()) {
+      Collections.sort(entities, Comparator.comparingInt((Entity e) -> depth(e.path)).thenComparing(e -> e.path));
+      Map<String, Entity> types = new HashMap<>();
+      for (Entity entity : entities) {
+        types.put(entity.type.getQualifiedName().toString(), entity);
+        if (entity.tracked && checker != null) {
+          Map<String, Integer> ordinals = new HashMap<>();
+          for (Parameter p : entity.parameters) {
+            ordinals.put(p.field, p.ordinal);
+          }
+          checker.check(entity.type, ordinals, entity.indexed ? entity.keyOrdinals() : Collections.emptySet());
+        }
+      }
+      List<String> forcedInform = new ArrayList<>();
+      forcedInform(entities.get(0), "o", types, forcedInform, new int[2], "    ");
+      try {
+        for (Entity entity : entities) {
+          writeDescriptor(entity, entity == entities.get(0) ? forcedInform : Collections.emptyList());
+          if (compact) {
+            writeCompact(entity);
+          }
+        }
+        services.add(writeMetamodel(entities));
+      } catch (IOException exception) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "CWMP metamodel generation failed: " + exception.getMessage());
+      }
+    }
+    if (!services.isEmpty()) {
+      try {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + METAMODEL + ".Metamodel");
+        try (PrintWriter writer = new PrintWriter(file.openWriter())) {
+          for (String service : services) {
+            writer.println(service);
+          }
+        }
+      } catch (IOException exception) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "CWMP metamodel registration failed: " + exception.getMessage());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Write the ObjectDescriptor of an entity class.
+   *
+   * @param forcedInform the statements reading the forcedInform parameters of
+   *                     a root object, empty otherwise
+   */
+  private void writeDescriptor(Entity entity, List<String> forcedInform) throws IOException {
+    String name = entity.type.getSimpleName() + "_";
+    String entityName = entity.type.getSimpleName().toString();
+    try (PrintWriter w = new PrintWriter(createSource(entity.packageName() + "." + name, entity.type))) {
+      header(w, entity.packageName());
+      w.println("/**");
+      w.println(" * CWMP metamodel of {@code " + entity.path + "}.");
+      w.println(" * <p>");
+      w.println(" * Generated by " + getClass().getName() + "; do not edit.");
+      w.println(" */");
+      w.println("public final class " + name + " extends " + METAMODEL + ".ObjectDescriptor<" + entityName + "> {");
+      w.println();
+      w.println("  public " + name + "() {");
+      w.println("    super(" + literal(entity.path) + ", " + entityName + ".class,");
+      w.println("        new " + METAMODEL + ".ParameterDescriptor[]{");
+      for (Parameter p : entity.parameters) {
+        w.println("          new " + METAMODEL + ".ParameterDescriptor(" + p.ordinal + ", " + literal(p.name) + ", " + literal(p.field) + ", "
+                  + p.valueType + ".class, " + literal(xsdType(entity, p)) + ", " + p.list + ", " + p.enumeration + ", " + literal(p.access) + ", " + p.optional + ", " + p.required + ", "
+                  + literal(p.activeNotify) + ", " + p.forcedInform + ", " + literal(p.units) + "),");
+      }
+      w.println("        },");
+      w.println("        new " + METAMODEL + ".ChildDescriptor[]{");
+      for (Child c : entity.children) {
+        w.println("          new " + METAMODEL + ".ChildDescriptor(" + c.ordinal + ", " + literal(c.name) + ", " + literal(c.field) + ", "
+                  + c.valueType + ".class, " + c.table + ", " + literal(c.access) + ", " + c.minEntries + ", " + c.maxEntries + "),");
+      }
+      w.println("        },");
+      w.println("        new " + METAMODEL + ".UniqueDescriptor[]{");
+      for (CWMPUnique unique : entity.annotation.uniqueConstraints()) {
+        StringBuilder names = new StringBuilder();
+        for (String uniqueName : unique.names()) {
+          names.append(", ").append(literal(uniqueName));
+        }
+        w.println("          new " + METAMODEL + ".UniqueDescriptor(" + unique.functional() + names + "),");
+      }
+      w.println("        });");
+      w.println("  }");
+      w.println();
+      w.println("  @Override");
+      w.println("  public " + entityName + " newInstance() {");
+      w.println("    return new " + entityName + "();");
+      w.println("  }");
+      w.println();
+      writeGetter(w, "getValue", entityName, entity.parameters);
+      writeSetter(w, "setValue", entityName, entity.parameters);
+      writeGetter(w, "getObject", entityName, entity.children);
+      writeSetter(w, "setObject", entityName, entity.children);
+      writeValidate(w, entityName, entity);
+      if (!forcedInform.isEmpty()) {
+        w.println("  @Override");
+        w.println("  public void getForcedInform(Object object, Object[] values) {");
+        w.println("    " + entityName + " o = (" + entityName + ") object;");
+        for (String statement : forcedInform) {
+          w.println(statement);
+        }
+        w.println("  }");
+        w.println();
+      }
+      if (entity.tracked) {
+        w.println("  @Override");
+        w.println("  public " + COMMON + ".DirtyBits getDirtyBits(Object object) {");
+        w.println("    return ((" + entityName + ") object).dirty;");
+        w.println("  }");
+        w.println();
+        w.println("  @Override");
+        w.println("  public void setDirtyBits(Object object, " + COMMON + ".DirtyBits bits) {");
+        w.println("    ((" + entityName + ") object).dirty = bits;");
+        w.println("  }");
+        w.println();
+      }
+      if (entity.indexed) {
+        w.println("  @Override");
+        w.println("  public " + COMMON + ".InstanceTable<?> getIndexingTable(Object object) {");
+        w.println("    return ((" + entityName + ") object).table;");
+        w.println("  }");
+        w.println();
+        w.println("  @Override");
+        w.println("  public void setIndexingTable(Object object, " + COMMON + ".InstanceTable<?> table) {");
+        w.println("    ((" + entityName + ") object).table = table;");
+        w.println("  }");
+        w.println();
+      }
+      w.println("}");
+    }
+  }
+
+  private void writeGetter(PrintWriter w, String method, String entityName, List<? extends Member> members) {
+    w.println("  @Override");
+    w.println("  public Object " + method + "(Object object, int ordinal) {");
+    if (!members.isEmpty()) {
+      w.println("    " + entityName + " o = (" + entityName + ") object;");
+      w.println("    switch (ordinal) {");
+      for (Member m : members) {
+        w.println("      case " + m.ordinal + ": return o." + m.field + ";");
+      }
+      w.println("    }");
+    }
+    w.println("    throw new IndexOutOfBoundsException(String.valueOf(ordinal));");
+    w.println("  }");
+    w.println();
+  }
+
+  private void writeSetter(PrintWriter w, String method, String entityName, List<? extends Member> members) {
+    w.println("  @Override");
+    w.println("  @SuppressWarnings(\"unchecked\")");
+    w.println("  public void " + method + "(Object object, int ordinal, Object value) {");
+    if (!members.isEmpty()) {
+      w.println("    " + entityName + " o = (" + entityName + ") object;");
+      w.println("    switch (ordinal) {");
+      for (Member m : members) {
+        w.println("      case " + m.ordinal + ": o." + m.field + " = (" + m.fieldType + ") value; return;");
+      }
+      w.println("    }");
+    }
+    w.println("    throw new IndexOutOfBoundsException(String.valueOf(ordinal));");
+    w.println("  }");
+    w.println();
+  }
+
+  /**
+   * Write the validate method checking the constraints of an entity, if it
+   * has any. Patterns are compiled once, into constants.
+   */
+  private void writeValidate(PrintWriter w, String entityName, Entity entity) {
+    List<String> checks = new ArrayList<>();
+    for (Parameter p : entity.parameters) {
+      boolean string = p.valueType.equals("java.lang.String");
+      // Some entities carry an overflowed, negative maximum: a maximum below
+      // the minimum is unbounded.
+      if (p.size != null && string) {
+        long min = bound(p.size.get("min"), 0);
+        long max = bound(p.size.get("max"), Integer.MAX_VALUE);
+        checks.add((p.list ? "listLength(" : "length(") + literal(p.name) + ", o." + p.field + ", " + min + ", "
+                   + (max < min ? Integer.MAX_VALUE : max) + ");");
+      } else if (p.size != null && !p.list && (p.kind == Kind.LONG || p.kind == Kind.INT)) {
+        // The entities bound numbers with @Size.
+        long min = bound(p.size.get("min"), Long.MIN_VALUE);
+        long max = bound(p.size.get("max"), Long.MAX_VALUE);
+        checks.add("range(" + literal(p.name) + ", o." + p.field + ", " + longLiteral(min) + ", "
+                   + longLiteral(max < min ? Long.MAX_VALUE : max) + ");");
+      }
+      if (p.regexp != null && string) {
+        w.println("  private static final java.util.regex.Pattern PATTERN_" + p.ordinal
+                  + " = java.util.regex.Pattern.compile(" + literal(p.regexp) + ");");
+        w.println();
+        checks.add("pattern(" + literal(p.name) + ", o." + p.field + ", PATTERN_" + p.ordinal + ");");
+      }
+      // The common data types constrain their text. No entity holds a list of
+      // them.
+      if (!p.list) {
+        String text = "o." + p.field + " == null ? null : o." + p.field + ".getValue()";
+        if (p.valueSize != null) {
+          long min = bound(p.valueSize.get("min"), 0);
+          long max = bound(p.valueSize.get("max"), Integer.MAX_VALUE);
+          checks.add("length(" + literal(p.name) + ", " + text + ", " + min + ", " + max + ");");
+        }
+        if (p.valueRegexp != null) {
+          w.println("  private static final java.util.regex.Pattern PATTERN_" + p.ordinal
+                    + " = java.util.regex.Pattern.compile(" + literal(p.valueRegexp) + ");");
+          w.println();
+          checks.add("pattern(" + literal(p.name) + ", " + text + ", PATTERN_" + p.ordinal + ");");
+        }
+        for (String assertion : p.assertions) {
+          checks.add("valid(" + literal(p.name) + ", o." + p.field + ", o." + p.field + " == null || o." + p.field + "."
+                     + assertion + "());");
+        }
+      }
+    }
+    for (Child c : entity.children) {
+      if (c.table && (c.minEntries > 0 || c.maxEntries < Integer.MAX_VALUE)) {
+        checks.add("entries(" + literal(c.name) + ", o." + c.field + ", " + c.minEntries + ", " + c.maxEntries + ");");
+      }
+    }
+    if (checks.isEmpty()) {
+      return;
+    }
+    w.println("  @Override");
+    w.println("  public void validate(Object object, " + METAMODEL + ".Violations violations) {");
+    w.println("    " + entityName + " o = (" + entityName + ") object;");
+    for (String check : checks) {
+      w.println("    violations." + check);
+    }
+    w.println("  }");
+    w.println();
+  }
+
+  /**
+   * Collect the statements reading the forcedInform parameters of an object
+   * and of its single-instance children into consecutive slots: the
+   * parameters first, then each child, in ordinal order. Parameters below a
+   * table are not collected.
+   *
+   * @param variable the local variable holding the object
+   * @param counters the next slot and the last local variable number
+   */
+  private void forcedInform(Entity entity, String variable, Map<String, Entity> types, List<String> statements,
+                            int[] counters, String indent) {
+    for (Parameter p : entity.parameters) {
+      if (p.forcedInform) {
+        statements.add(indent + "values[" + counters[0]++ + "] = " + variable + "." + p.field + ";");
+      }
+    }
+    for (Child c : entity.children) {
+      Entity child = types.get(c.valueType);
+      if (c.table || child == null) {
+        continue;
+      }
+      String local = "o" + ++counters[1];
+      List<String> nested = new ArrayList<>();
+      forcedInform(child, local, types, nested, counters, indent + "  ");
+      if (!nested.isEmpty()) {
+        statements.add(indent + c.valueType + " " + local + " = " + variable + "." + c.field + ";");
+        statements.add(indent + "if (" + local + " != null) {");
+        statements.addAll(nested);
+        statements.add(indent + "}");
+      }
+    }
+  }
+
+  /**
+   * @return the annotation element value, or the default if not set
+   */
+  /**
+   * @return the xsi:type of a parameter, from the data model if it defines
+   *         the parameter, else from the Java type. The text of a byte[] is
+   *         always written in base64.
+   */
+  private String xsdType(Entity entity, Parameter p) {
+    if (p.list) {
+      return "xsd:string";
+    }
+    if (p.valueType.equals("byte[]")) {
+      return "xsd:base64Binary";
+    }
+    String declared = dataModel == null ? null : dataModel.xsdType(entity.path, p.name);
+    if (declared != null) {
+      return declared;
+    }
+    switch (p.valueType) {
+      case "java.lang.Boolean":
+        return "xsd:boolean";
+      case "java.lang.Integer":
+      case COMMON + ".Dbm1000":
+        return "xsd:int";
+      case "java.lang.Long":
+        return p.size != null && bound(p.size.get("min"), 0) < 0 ? "xsd:long" : "xsd:unsignedInt";
+      case "java.time.LocalDateTime":
+        return "xsd:dateTime";
+      case COMMON + ".StatsCounter32":
+        return "xsd:unsignedInt";
+      case COMMON + ".StatsCounter64":
+        return "xsd:unsignedLong";
+      default:
+        return "xsd:string";
+    }
+  }
+
+  private static long bound(Object value, long defaultValue) {
+    return value == null ? defaultValue : ((Number) value).longValue();
+  }
+
+  /**
+   * @return a Java long literal
+   */
+  private static String longLiteral(long value) {
+    return value == Long.MIN_VALUE ? "Long.MIN_VALUE" : value == Long.MAX_VALUE ? "Long.MAX_VALUE" : value + "L";
+  }
+
+  /**
+   * Write the compact flavor of an entity class.
+   */
+  private void writeCompact(Entity entity) throws IOException {
+    String entityName = entity.type.getSimpleName().toString();
+    String name = entityName + "Compact";
+    try (PrintWriter w = new PrintWriter(createSource(entity.packageName() + "." + name, entity.type))) {
+      header(w, entity.packageName());
+      w.println("/**");
+      w.println(" * Compact flavor of {@code " + entity.path + "}.");
+      w.println(" * <p>");
+      w.println(" * Generated by " + getClass().getName() + "; do not edit.");
+      w.println(" */");
+      w.println("public final class " + name + " extends " + METAMODEL + ".CompactObject {");
+      w.println();
+      for (Parameter p : entity.parameters) {
+        w.println("  private " + p.kind.fieldType(p) + " " + p.field + ";");
+      }
+      for (Child c : entity.children) {
+        w.println("  private " + c.compactType() + " " + c.field + ";");
+      }
+      w.println();
+      w.println("  public " + name + "() {");
+      w.println("    super(" + entity.parameters.size() + ");");
+      w.println("  }");
+      w.println();
+      w.println("  /**");
+      w.println("   * @param entity the entity, may be null");
+      w.println("   * @return a compact copy of the entity tree, null if the entity is null");
+      w.println("   */");
+      w.println("  @SuppressWarnings(\"unchecked\")");
+      w.println("  public static " + name + " of(" + entityName + " entity) {");
+      w.println("    if (entity == null) {");
+      w.println("      return null;");
+      w.println("    }");
+      w.println("    " + name + " compact = new " + name + "();");
+      for (Parameter p : entity.parameters) {
+        w.println("    compact." + p.setter + "(" + (p.kind == Kind.REFERENCE ? copy(p, "entity." + p.field) : "entity." + p.field) + ");");
+      }
+      for (Child c : entity.children) {
+        w.println("    compact." + c.field + " = " + (c.table
+                                                        ? "convert(entity." + c.field + ", " + c.valueType + "Compact::of);"
+                                                        : c.valueType + "Compact.of(entity." + c.field + ");"));
+      }
+      w.println("    return compact;");
+      w.println("  }");
+      w.println();
+      w.println("  /**");
+      w.println("   * @return a new entity tree holding a copy of this object");
+      w.println("   */");
+      w.println("  @SuppressWarnings(\"unchecked\")");
+      w.println("  public " + entityName + " toEntity() {");
+      w.println("    " + entityName + " entity = new " + entityName + "();");
+      for (Parameter p : entity.parameters) {
+        w.println("    entity." + p.field + " = " + (p.kind == Kind.REFERENCE ? copy(p, "this." + p.field) : "this." + p.getter + "()") + ";");
+      }
+      for (Child c : entity.children) {
+        w.println("    entity." + c.field + " = " + (c.table
+                                                       ? "convert(this." + c.field + ", " + c.valueType + "Compact::toEntity);"
+                                                       : "this." + c.field + " == null ? null : this." + c.field + ".toEntity();"));
+      }
+      w.println("    return entity;");
+      w.println("  }");
+      w.println();
+      for (Parameter p : entity.parameters) {
+        w.println("  public " + p.fieldType + " " + p.getter + "() {");
+        w.println("    return " + p.kind.get(p) + ";");
+        w.println("  }");
+        w.println();
+        w.println("  public void " + p.setter + "(" + p.fieldType + " value) {");
+        p.kind.set(w, p);
+        w.println("  }");
+        w.println();
+      }
+      for (Child c : entity.children) {
+        w.println("  public " + c.compactType() + " " + c.getter + "() {");
+        w.println("    return " + c.field + ";");
+        w.println("  }");
+        w.println();
+        w.println("  public void " + c.setter + "(" + c.compactType() + " value) {");
+        w.println("    this." + c.field + " = value;");
+        w.println("  }");
+        w.println();
+      }
+      w.println("}");
+    }
+  }
+
+  /**
+   * @return an expression copying a reference parameter value
+   */
+  private static String copy(Parameter p, String value) {
+    return "(" + p.fieldType + ") " + METAMODEL + ".Values.copy(" + value + ")";
+  }
+
+  /**
+   * Write the Metamodel of a module.
+   *
+   * @return the generated class name
+   */
+  private String writeMetamodel(List<Entity> entities) throws IOException {
+    Entity root = entities.get(0);
+    String name = root.type.getSimpleName() + "Metamodel";
+    String qualifiedName = root.packageName() + "." + name;
+    try (PrintWriter w = new PrintWriter(createSource(qualifiedName, root.type))) {
+      header(w, root.packageName());
+      w.println("/**");
+      w.println(" * CWMP metamodel of the {@code " + root.path + "} data model.");
+      w.println(" * <p>");
+      w.println(" * Generated by " + getClass().getName() + "; do not edit.");
+      w.println(" */");
+      w.println("public final class " + name + " extends " + METAMODEL + ".Metamodel {");
+      w.println();
+      w.println("  public " + name + "() {");
+      w.println("    super(");
+      for (int i = 0; i < entities.size(); i++) {
+        w.println("        new " + entities.get(i).type.getQualifiedName() + "_()" + (i + 1 < entities.size() ? "," : ""));
+      }
+      w.println("    );");
+      w.println("  }");
+      w.println();
+      List<String> values = dataModel == null ? Collections.emptyList() : dataModel.enumerationValues();
+      if (!values.isEmpty()) {
+        w.println("  private static final java.util.List<String> ENUMERATION_VALUES = java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        for (int i = 0; i < values.size(); i++) {
+          w.println("      " + literal(values.get(i)) + (i + 1 < values.size() ? "," : "));"));
+        }
+        w.println();
+        w.println("  @Override");
+        w.println("  public java.util.List<String> getEnumerationValues() {");
+        w.println("    return ENUMERATION_VALUES;");
+        w.println("  }");
+        w.println();
+      }
+      w.println("}");
+    }
+    return qualifiedName;
+  }
+
+  private Writer createSource(String name, Element origin) throws IOException {
+    return processingEnv.getFiler().createSourceFile(name, origin).openWriter();
+  }
+
+  private void header(PrintWriter w, String packageName) {
+    w.println("package " + packageName + ";");
+    w.println();
+  }
+
+  /**
+   * @return the number of path segments of a path template
+   */
+  private static int depth(String path) {
+    int depth = 0;
+    for (int i = 0; i < path.length(); i++) {
+      if (path.charAt(i) == '.') {
+        depth++;
+      }
+    }
+    return depth;
+  }
+
+  /**
+   * @return a Java string literal
+   */
+  static String literal(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        default:
+          sb.append(c);
+      }
+    }
+    return sb.append('"').toString();
+  }
+
+  /**
+   * @return the value of the "name" element of the annotation, null if the
+   *         element is not annotated
+   */
+  private static String annotationName(Element element, String annotation) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+          if (entry.getKey().getSimpleName().contentEquals("name")) {
+            return String.valueOf(entry.getValue().getValue());
+          }
+        }
+        return "";
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the explicitly set element values of the annotation by element
+   *         name, null if the element is not annotated
+   */
+  private static Map<String, Object> annotationValues(Element element, String annotation) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+          values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return values;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the @CWMPObject annotation of a declared type, null if the type is
+   *         not an entity class
+   */
+  private static CWMPObject entityAnnotation(TypeMirror type) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    return ((DeclaredType) type).asElement().getAnnotation(CWMPObject.class);
+  }
+
+  /**
+   * @return the item type of a collection, null if the type is not a
+   *         collection
+   */
+  private static TypeMirror itemType(TypeMirror type) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    DeclaredType declared = (DeclaredType) type;
+    String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+    if (!name.equals("java.util.Collection") && !name.equals("java.util.List") || declared.getTypeArguments().size() != 1) {
+      return null;
+    }
+    return declared.getTypeArguments().get(0);
+  }
+
+  /**
+   * @return the superclass of a class, null for java.lang.Object
+   */
+  private static TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+  }
+
+  /**
+   * @return the name of a type without type arguments
+   */
+  private String rawName(TypeMirror type) {
+    return processingEnv.getTypeUtils().erasure(type).toString();
+  }
+
+  /**
+   * @return true if the type declares a public method of the name without
+   *         parameters
+   */
+  private static boolean hasMethod(Element type, String name) {
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (method.getSimpleName().contentEquals(name) && method.getParameters().isEmpty() && method.getModifiers().contains(Modifier.PUBLIC)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * An entity class.
+   */
+  private class Entity {
+
+    final TypeElement type;
+    final CWMPObject annotation;
+    final String path;
+    final List<Parameter> parameters = new ArrayList<>();
+    final List<Child> children = new ArrayList<>();
+    /**
+     * True if the entity declares the {@code DirtyBits dirty} field marked by
+     * its setters.
+     */
+    boolean tracked;
+    /**
+     * True if the entity declares the {@code InstanceTable<?> table} field
+     * its key setters reindex it in.
+     */
+    boolean indexed;
+
+    Entity(TypeElement type) {
+      this.type = type;
+      this.annotation = type.getAnnotation(CWMPObject.class);
+      this.path = annotation.name();
+      for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+        if (field.getSimpleName().contentEquals("dirty") && rawName(field.asType()).equals(COMMON + ".DirtyBits")) {
+          tracked = true;
+        }
+        if (field.getSimpleName().contentEquals("table") && rawName(field.asType()).equals(COMMON + ".InstanceTable")) {
+          indexed = true;
+        }
+        if (!field.getModifiers().contains(Modifier.PUBLIC) || field.getModifiers().contains(Modifier.STATIC)) {
+          continue;
+        }
+        TypeMirror fieldType = field.asType();
+        TypeMirror itemType = itemType(fieldType);
+        CWMPObject child = entityAnnotation(itemType != null ? itemType : fieldType);
+        if (child != null) {
+          children.add(new Child(children.size(), field, itemType != null ? itemType : fieldType, child, itemType != null));
+        } else {
+          parameters.add(new Parameter(parameters.size(), field, itemType));
+        }
+      }
+    }
+
+    /**
+     * @return the ordinals of the parameters of any unique constraint
+     */
+    Set<Integer> keyOrdinals() {
+      Set<Integer> keys = new TreeSet<>();
+      for (CWMPUnique unique : annotation.uniqueConstraints()) {
+        for (String name : unique.names()) {
+          for (Parameter p : parameters) {
+            if (p.name.equals(name)) {
+              keys.add(p.ordinal);
+            }
+          }
+        }
+      }
+      return keys;
+    }
+
+    String packageName() {
+      return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+  }
+
+  /**
+   * A field of an entity class.
+   */
+  private abstract class Member {
+
+    final int ordinal;
+    final String field;
+    final String fieldType;
+    final String access;
+    /**
+     * The getter and setter names of the entity class.
+     */
+    final String getter;
+    final String setter;
+
+    Member(int ordinal, VariableElement element) {
+      CWMPParameter annotation = element.getAnnotation(CWMPParameter.class);
+      this.ordinal = ordinal;
+      this.field = element.getSimpleName().toString();
+      this.fieldType = element.asType().toString();
+      this.access = annotation == null ? "readOnly" : annotation.access();
+      String capitalized = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+      this.getter = hasMethod(element.getEnclosingElement(), "is" + capitalized) ? "is" + capitalized : "get" + capitalized;
+      this.setter = "set" + capitalized;
+    }
+  }
+
+  /**
+   * A parameter field.
+   */
+  private class Parameter extends Member {
+
+    final String name;
+    final String valueType;
+    final boolean list;
+    final boolean enumeration;
+    final boolean optional;
+    final boolean required;
+    final String activeNotify;
+    final boolean forcedInform;
+    final String units;
+    final Kind kind;
+    /**
+     * The explicitly set @Size bounds, null if not constrained.
+     */
+    final Map<String, Object> size;
+    /**
+     * The @Pattern regular expression, null if not constrained.
+     */
+    final String regexp;
+    /**
+     * The @Size bounds of the text of a common data type, null if not
+     * constrained.
+     */
+    Map<String, Object> valueSize;
+    /**
+     * The @Pattern regular expression of the text of a common data type, null
+     * if not constrained.
+     */
+    String valueRegexp;
+    /**
+     * The @AssertTrue methods of a common data type.
+     */
+    final List<String> assertions = new ArrayList<>();
+
+    Parameter(int ordinal, VariableElement element, TypeMirror itemType) {
+      super(ordinal, element);
+      CWMPParameter annotation = element.getAnnotation(CWMPParameter.class);
+      String xmlName = annotationName(element, XML_ELEMENT);
+      this.name = xmlName == null || xmlName.isEmpty() ? field : xmlName;
+      this.list = itemType != null;
+      this.valueType = rawName(list ? itemType : element.asType());
+      // The generated entities document enumerations with the {{enum}} placeholder.
+      String doc = processingEnv.getElementUtils().getDocComment(element);
+      this.enumeration = !list && valueType.equals("java.lang.String") && doc != null && doc.contains("{{enum}}");
+      this.optional = annotation == null || annotation.optional();
+      this.required = annotation != null && annotation.required();
+      this.activeNotify = annotation == null ? "" : annotation.activeNotify();
+      this.forcedInform = annotation != null && annotation.forcedInform();
+      this.units = annotation == null ? "" : annotation.units();
+      this.kind = list ? Kind.REFERENCE : Kind.of(valueType);
+      this.size = annotationValues(element, SIZE);
+      Map<String, Object> pattern = annotationValues(element, PATTERN);
+      this.regexp = pattern == null ? null : (String) pattern.get("regexp");
+      if (!list && element.asType().getKind() == TypeKind.DECLARED && valueType.startsWith(COMMON + ".")) {
+        readValueConstraints((TypeElement) ((DeclaredType) element.asType()).asElement());
+      }
+    }
+
+    /**
+     * Read the constraints of a common data type and its superclasses. The
+     * text constraints are only read if the type has a public String
+     * getValue() method.
+     */
+    private void readValueConstraints(TypeElement type) {
+      boolean text = false;
+      for (TypeElement t = type; t != null; t = superclass(t)) {
+        for (VariableElement f : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+          if (annotationValues(f, XML_VALUE) != null && rawName(f.asType()).equals("java.lang.String") && valueSize == null && valueRegexp == null) {
+            valueSize = annotationValues(f, SIZE);
+            Map<String, Object> pattern = annotationValues(f, PATTERN);
+            valueRegexp = pattern == null ? null : (String) pattern.get("regexp");
+          }
+        }
+        for (ExecutableElement m : ElementFilter.methodsIn(t.getEnclosedElements())) {
+          if (!m.getModifiers().contains(Modifier.PUBLIC) || !m.getParameters().isEmpty()) {
+            continue;
+          }
+          if (m.getSimpleName().contentEquals("getValue") && rawName(m.getReturnType()).equals("java.lang.String")) {
+            text = true;
+          }
+          if (annotationValues(m, ASSERT_TRUE) != null && m.getReturnType().getKind() == TypeKind.BOOLEAN) {
+            assertions.add(m.getSimpleName().toString());
+          }
+        }
+      }
+      if (!text) {
+        valueSize = null;
+        valueRegexp = null;
+      }
+    }
+  }
+
+  /**
+   * A child object or table field.
+   */
+  private class Child extends Member {
+
+    final String name;
+    final String valueType;
+    final boolean table;
+    final int minEntries;
+    final int maxEntries;
+
+    Child(int ordinal, VariableElement element, TypeMirror childType, CWMPObject child, boolean table) {
+      super(ordinal, element);
+      CWMPParameter annotation = element.getAnnotation(CWMPParameter.class);
+      // The path segment is the last segment of the child path template.
+      String path = child.name();
+      String trimmed = path.endsWith("{i}.") ? path.substring(0, path.length() - 5) : path.substring(0, path.length() - 1);
+      this.name = trimmed.substring(trimmed.lastIndexOf('.') + 1);
+      this.valueType = rawName(childType);
+      this.table = table;
+      this.minEntries = annotation == null ? 0 : annotation.minEntries();
+      this.maxEntries = annotation == null ? Integer.MAX_VALUE : annotation.maxEntries();
+    }
+
+    /**
+     * @return the type of the child in the compact flavor
+     */
+    String compactType() {
+      return table ? "java.util.Collection<" + valueType + "Compact>" : valueType + "Compact";
+    }
+  }
+
+  /**
+   * How the compact flavor holds a parameter.
+   */
+  private enum Kind {
+
+    /**
+     * The entity field type, null if not set.
+     */
+    REFERENCE(null, null),
+    LONG("long", "java.lang.Long"),
+    INT("int", "java.lang.Integer"),
+    BOOLEAN("boolean", "java.lang.Boolean"),
+    COUNTER32("long", COMMON + ".StatsCounter32"),
+    COUNTER64("long", COMMON + ".StatsCounter64"),
+    DBM1000("int", COMMON + ".Dbm1000");
+
+    final String primitive;
+    final String type;
+
+    Kind(String primitive, String type) {
+      this.primitive = primitive;
+      this.type = type;
+    }
+
+    static Kind of(String valueType) {
+      for (Kind kind : values()) {
+        if (valueType.equals(kind.type)) {
+          return kind;
+        }
+      }
+      return REFERENCE;
+    }
+
+    String fieldType(Parameter p) {
+      return this == REFERENCE ? p.fieldType : primitive;
+    }
+
+    /**
+     * @return the getter expression
+     */
+    String get(Parameter p) {
+      String value = "this." + p.field;
+      switch (this) {
+        case REFERENCE:
+          return value;
+        case DBM1000:
+          return "isSet(" + p.ordinal + ") ? new " + type + "().withValue(" + value + ") : null";
+        default:
+          return "isSet(" + p.ordinal + ") ? " + type + ".valueOf(" + value + ") : null";
+      }
+    }
+
+    /**
+     * Write the setter body, reading the parameter "value".
+     */
+    void set(PrintWriter w, Parameter p) {
+      String value = "value";
+      if (this == COUNTER32 || this == COUNTER64 || this == DBM1000) {
+        String boxed = this == DBM1000 ? "java.lang.Integer" : "java.lang.Long";
+        w.println("    " + boxed + " number = value == null ? null : value.getValue();");
+        value = "number";
+      }
+      w.println("    mark(" + p.ordinal + ", " + value + " != null);");
+      switch (this) {
+        case REFERENCE:
+          w.println("    this." + p.field + " = value;");
+          break;
+        case BOOLEAN:
+          w.println("    this." + p.field + " = value != null && value;");
+          break;
+        default:
+          w.println("    this." + p.field + " = " + value + " == null ? 0 : " + value + ";");
+      }
+    }
+  }
+
+}
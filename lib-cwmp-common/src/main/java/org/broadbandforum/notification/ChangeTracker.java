@@ -0,0 +1,305 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.notification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.InstancePath;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+
+/**
+ * Tracks the parameter changes of an entity tree to build the
+ * {@code 4 VALUE CHANGE} events of the CWMP notification model.
+ * <p>
+ * Tracking is opt-in per tree: {@link #track(Object)} attaches a
+ * {@link DirtyBits} to every object, which the entity setters and
+ * {@code with} methods mark, as do the path based writers, e.g. a
+ * {@code ParameterValueReader} updating the shadow tree of a CPE. An object
+ * is queued when its first parameter is marked, so {@link #collect()} visits
+ * only the changed objects and never compares trees. Objects and rows added to the tree later are tracked from
+ * the next call to {@link #track(Object)}; removed rows should be passed to
+ * {@link #untrack(Object)}.
+ * <p>
+ * The notification attribute of a parameter is Off, Passive or Active. It
+ * defaults to Active for the {@code forceEnabled} and
+ * {@code forceDefaultEnabled} parameters and to Off otherwise, and is set by
+ * {@link #setNotification(String, int)}, as by a SetParameterAttributes
+ * request.
+ * <p>
+ * Trackers are not thread safe.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ChangeTracker {
+
+  public static final int OFF = 0;
+  public static final int PASSIVE = 1;
+  public static final int ACTIVE = 2;
+
+  private static final String FORCE_ENABLED = "forceEnabled";
+  private static final String FORCE_DEFAULT_ENABLED = "forceDefaultEnabled";
+
+  private final PathResolver resolver;
+  /**
+   * The objects with marked parameters, in the order of their first change.
+   */
+  private final List<Node> changed = new ArrayList<>();
+  /**
+   * The notification attributes set on parameter paths.
+   */
+  private final Map<String, Integer> notifications = new HashMap<>();
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   */
+  public ChangeTracker(Class<?> type) {
+    this.resolver = PathResolver.of(type);
+  }
+
+  /**
+   * Start tracking a tree. Objects already tracked keep their changes.
+   *
+   * @param root the root entity
+   * @throws IllegalArgumentException if the tree is not a root object of this
+   *                                  data model
+   */
+  public void track(Object root) {
+    ObjectDescriptor<?> object = rootOf(root);
+    // A multi-instance root is numbered 1.
+    attach(object, root, null, object.getPath().substring(0, object.getPath().length() - 1).replace(".{i}", ".1"), 0);
+  }
+
+  /**
+   * Stop tracking a subtree, e.g. a deleted table row, discarding its
+   * changes.
+   *
+   * @param object any entity of the tree
+   */
+  public void untrack(Object object) {
+    detach(resolver.getMetamodel().getObject(object.getClass()), object);
+  }
+
+  /**
+   * @param path the parameter path, e.g. "Device.WiFi.Radio.1.Channel"
+   * @return the notification attribute of the parameter
+   * @throws IllegalArgumentException if the path is not a parameter name
+   */
+  public int getNotification(String path) {
+    return notification(path, parameter(path));
+  }
+
+  /**
+   * Set the notification attribute of a parameter.
+   *
+   * @param path         the parameter path, e.g. "Device.WiFi.Radio.1.Channel"
+   * @param notification {@link #OFF}, {@link #PASSIVE} or {@link #ACTIVE}
+   * @throws IllegalArgumentException if the path is not a parameter name, the
+   *                                  notification is not valid, or the
+   *                                  parameter is forceEnabled and the
+   *                                  notification is not Active (CWMP fault
+   *                                  9009)
+   */
+  public void setNotification(String path, int notification) {
+    ParameterDescriptor parameter = parameter(path);
+    if (notification < OFF || notification > ACTIVE) {
+      throw new IllegalArgumentException("Invalid notification " + notification);
+    }
+    if (FORCE_ENABLED.equals(parameter.getActiveNotify()) && notification != ACTIVE) {
+      throw new IllegalArgumentException("Notification request rejected for " + path);
+    }
+    notifications.put(path, notification);
+  }
+
+  /**
+   * @return true if a tracked parameter was changed since the last collect
+   */
+  public boolean hasChanges() {
+    return !changed.isEmpty();
+  }
+
+  /**
+   * Collect the changed parameters whose notification attribute is Passive
+   * or Active, with their current values, and clear every change.
+   *
+   * @return the changes in the order the objects were first changed, then in
+   *         parameter order
+   */
+  public List<ValueChange> collect() {
+    if (changed.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<ValueChange> changes = new ArrayList<>();
+    for (Node node : changed) {
+      String path = null;
+      List<ParameterDescriptor> parameters = node.descriptor.getParameters();
+      for (int i = node.nextSetBit(0); i >= 0; i = node.nextSetBit(i + 1)) {
+        ParameterDescriptor parameter = parameters.get(i);
+        if (path == null) {
+          path = node.path(new StringBuilder(64)).append('.').toString();
+        }
+        String name = path + parameter.getName();
+        int notification = notification(name, parameter);
+        if (notification != OFF) {
+          changes.add(new ValueChange(name, parameter, node.descriptor.getValue(node.object, i), notification));
+        }
+      }
+      node.clear();
+    }
+    changed.clear();
+    return changes;
+  }
+
+  private int notification(String path, ParameterDescriptor parameter) {
+    Integer notification = notifications.isEmpty() ? null : notifications.get(path);
+    if (notification != null) {
+      return notification;
+    }
+    String activeNotify = parameter.getActiveNotify();
+    return FORCE_ENABLED.equals(activeNotify) || FORCE_DEFAULT_ENABLED.equals(activeNotify) ? ACTIVE : OFF;
+  }
+
+  private ParameterDescriptor parameter(String path) {
+    CompiledPath compiled = resolver.compile(InstancePath.parse(path).getTemplate());
+    if (!compiled.isParameter()) {
+      throw new IllegalArgumentException("Invalid parameter name " + path);
+    }
+    return compiled.getParameter();
+  }
+
+  private ObjectDescriptor<?> rootOf(Object tree) {
+    Metamodel metamodel = resolver.getMetamodel();
+    ObjectDescriptor<?> object = metamodel.getObject(tree.getClass());
+    if (object != metamodel.getRoot()) {
+      throw new IllegalArgumentException(tree.getClass().getName() + " is not the root object of " + metamodel);
+    }
+    return object;
+  }
+
+  /**
+   * Attach a node to an object and its subtree.
+   *
+   * @param segment  the path segment of the object, or the root path
+   * @param instance the instance number of a table row, 0 otherwise
+   */
+  private void attach(ObjectDescriptor<?> object, Object value, Node parent, String segment, int instance) {
+    DirtyBits bits = object.getDirtyBits(value);
+    Node node;
+    if (bits instanceof Node && ((Node) bits).tracker() == this) {
+      node = (Node) bits;
+    } else {
+      node = new Node(parent, segment, instance, object, value);
+      object.setDirtyBits(value, node);
+    }
+    for (ChildDescriptor child : object.getChildren()) {
+      Object childValue = object.getObject(value, child.getOrdinal());
+      ObjectDescriptor<?> target = child.getObject();
+      if (childValue == null || target == null) {
+        continue;
+      }
+      if (child.isTable()) {
+        Collection<?> table = (Collection<?>) childValue;
+        int position = 0;
+        for (Object row : table) {
+          position++;
+          attach(target, row, node, child.getName(), table instanceof InstanceTable
+                                                     ? ((InstanceTable<?>) table).instanceNumberOf(row) : position);
+        }
+      } else {
+        attach(target, childValue, node, child.getName(), 0);
+      }
+    }
+  }
+
+  private void detach(ObjectDescriptor<?> object, Object value) {
+    DirtyBits bits = object.getDirtyBits(value);
+    if (bits instanceof Node && ((Node) bits).tracker() == this) {
+      changed.remove(bits);
+      object.setDirtyBits(value, null);
+    }
+    for (ChildDescriptor child : object.getChildren()) {
+      Object childValue = object.getObject(value, child.getOrdinal());
+      ObjectDescriptor<?> target = child.getObject();
+      if (childValue == null || target == null) {
+        continue;
+      }
+      if (child.isTable()) {
+        for (Object row : (Collection<?>) childValue) {
+          detach(target, row);
+        }
+      } else {
+        detach(target, childValue);
+      }
+    }
+  }
+
+  /**
+   * The change bits of a tracked object, linked to its parent to build its
+   * path when it is collected.
+   */
+  private final class Node extends DirtyBits {
+
+    final Node parent;
+    final String segment;
+    final int instance;
+    final ObjectDescriptor<?> descriptor;
+    final Object object;
+
+    Node(Node parent, String segment, int instance, ObjectDescriptor<?> descriptor, Object object) {
+      this.parent = parent;
+      this.segment = segment;
+      this.instance = instance;
+      this.descriptor = descriptor;
+      this.object = object;
+    }
+
+    ChangeTracker tracker() {
+      return ChangeTracker.this;
+    }
+
+    /**
+     * Append the object path, without the trailing dot.
+     */
+    StringBuilder path(StringBuilder path) {
+      if (parent != null) {
+        parent.path(path).append('.');
+      }
+      path.append(segment);
+      if (instance > 0) {
+        path.append('.').append(instance);
+      }
+      return path;
+    }
+
+    @Override
+    protected void marked() {
+      changed.add(this);
+    }
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.notification;
+
+import org.broadbandforum.metamodel.ParameterDescriptor;
+
+/**
+ * A changed parameter to report in the {@code ParameterList} of a
+ * {@code 4 VALUE CHANGE} Inform.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ValueChange {
+
+  private final String path;
+  private final ParameterDescriptor parameter;
+  private final Object value;
+  private final int notification;
+
+  ValueChange(String path, ParameterDescriptor parameter, Object value, int notification) {
+    this.path = path;
+    this.parameter = parameter;
+    this.value = value;
+    this.notification = notification;
+  }
+
+  /**
+   * @return the parameter path, e.g. "Device.WiFi.Radio.1.Channel"
+   */
+  public String getPath() {
+    return path;
+  }
+
+  public ParameterDescriptor getParameter() {
+    return parameter;
+  }
+
+  /**
+   * @return the current value of the parameter
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * @return {@link ChangeTracker#PASSIVE} or {@link ChangeTracker#ACTIVE}
+   */
+  public int getNotification() {
+    return notification;
+  }
+
+  /**
+   * @return true if the change requires an immediate Inform
+   */
+  public boolean isActive() {
+    return notification == ChangeTracker.ACTIVE;
+  }
+
+  @Override
+  public String toString() {
+    return path + "=" + value;
+  }
+
+}
@@ -0,0 +1,512 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.persistent;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.InstancePath;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * An immutable counterpart of an entity, e.g. a version of a {@code Device},
+ * described by the generated object descriptor of the entity class.
+ * <p>
+ * Updates copy only the path from the root to the changed parameter: every
+ * untouched parameter, object and table row is shared with the previous
+ * version. Keeping N versions of a tree costs one copy plus the changed paths.
+ * {@link #of(Object)} and {@link #toEntity()} convert from and to the mutable
+ * entities, copying the mutable common data types so that no state is shared
+ * with them.
+ * <p>
+ * Parameter values returned by the getters are shared between versions and
+ * must not be modified.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class PersistentObject {
+
+  private final ObjectDescriptor<?> descriptor;
+  /**
+   * The parameter values by ordinal, null if no parameter is set.
+   */
+  private final Object[] values;
+  /**
+   * The child objects and tables by ordinal, null if no child is set.
+   */
+  private final Object[] children;
+
+  private PersistentObject(ObjectDescriptor<?> descriptor, Object[] values, Object[] children) {
+    this.descriptor = descriptor;
+    this.values = values;
+    this.children = children;
+  }
+
+  /**
+   * @param descriptor the object descriptor
+   * @return an object without parameters or children
+   */
+  public static PersistentObject empty(ObjectDescriptor<?> descriptor) {
+    return new PersistentObject(descriptor, null, null);
+  }
+
+  /**
+   * @param type the entity class, e.g. {@code Device.class}
+   * @return an object without parameters or children
+   * @throws IllegalArgumentException if the class is not a CWMP object
+   */
+  public static PersistentObject empty(Class<?> type) {
+    return empty(Metamodel.describe(type));
+  }
+
+  /**
+   * Convert a mutable entity tree.
+   *
+   * @param entity the entity
+   * @return the immutable tree
+   * @throws IllegalArgumentException if the entity is not a CWMP object
+   */
+  public static PersistentObject of(Object entity) {
+    return of(Metamodel.describe(entity.getClass()), entity);
+  }
+
+  static PersistentObject of(ObjectDescriptor<?> descriptor, Object entity) {
+    Object[] values = null;
+    List<ParameterDescriptor> parameters = descriptor.getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      Object value = descriptor.getValue(entity, i);
+      if (value != null) {
+        if (values == null) {
+          values = new Object[parameters.size()];
+        }
+        values[i] = freeze(value);
+      }
+    }
+    Object[] children = null;
+    List<ChildDescriptor> childDescriptors = descriptor.getChildren();
+    for (ChildDescriptor child : childDescriptors) {
+      Object value = descriptor.getObject(entity, child.getOrdinal());
+      if (value == null || child.getObject() == null) {
+        continue;
+      }
+      if (children == null) {
+        children = new Object[childDescriptors.size()];
+      }
+      children[child.getOrdinal()] = child.isTable()
+                                     ? PersistentTable.of(child.getObject(), (Collection<?>) value)
+                                     : of(child.getObject(), value);
+    }
+    return new PersistentObject(descriptor, values, children);
+  }
+
+  /**
+   * @return an immutable copy of a parameter value
+   */
+  private static Object freeze(Object value) {
+    Object copy = Values.copy(value);
+    return copy instanceof List ? Collections.unmodifiableList((List<?>) copy) : copy;
+  }
+
+  /**
+   * @return a new mutable entity tree; tables are {@code InstanceTable}s
+   */
+  public Object toEntity() {
+    Object entity = descriptor.newInstance();
+    if (values != null) {
+      for (int i = 0; i < values.length; i++) {
+        if (values[i] != null) {
+          descriptor.setValue(entity, i, Values.copy(values[i]));
+        }
+      }
+    }
+    if (children != null) {
+      for (int i = 0; i < children.length; i++) {
+        Object child = children[i];
+        if (child instanceof PersistentTable) {
+          descriptor.setObject(entity, i, ((PersistentTable) child).toEntity());
+        } else if (child != null) {
+          descriptor.setObject(entity, i, ((PersistentObject) child).toEntity());
+        }
+      }
+    }
+    return entity;
+  }
+
+  /**
+   * @param <T>  the entity type
+   * @param type the entity class
+   * @return a new mutable entity tree
+   * @throws ClassCastException if this is not an object of the class
+   */
+  public <T> T toEntity(Class<T> type) {
+    return type.cast(toEntity());
+  }
+
+  public ObjectDescriptor<?> getDescriptor() {
+    return descriptor;
+  }
+
+  /**
+   * @param name the parameter name, e.g. "HostName"
+   * @return the parameter value, null if not set
+   * @throws IllegalArgumentException if the object has no such parameter
+   */
+  public Object getValue(String name) {
+    return getValue(parameter(descriptor, name).getOrdinal());
+  }
+
+  /**
+   * @param ordinal the parameter ordinal
+   * @return the parameter value, null if not set
+   */
+  public Object getValue(int ordinal) {
+    return values == null ? null : values[ordinal];
+  }
+
+  /**
+   * @param name the name of a single-instance child object, e.g. "DeviceInfo"
+   * @return the child object, null if not set
+   * @throws IllegalArgumentException if the object has no such child object
+   */
+  public PersistentObject getObject(String name) {
+    ChildDescriptor child = child(descriptor, name, false);
+    return children == null ? null : (PersistentObject) children[child.getOrdinal()];
+  }
+
+  /**
+   * @param name the name of a table, e.g. "Host"
+   * @return the table, null if not set
+   * @throws IllegalArgumentException if the object has no such table
+   */
+  public PersistentTable getTable(String name) {
+    ChildDescriptor child = child(descriptor, name, true);
+    return children == null ? null : (PersistentTable) children[child.getOrdinal()];
+  }
+
+  /**
+   * Read a parameter of the tree rooted at this object.
+   *
+   * @param path the parameter path, e.g. "Device.Hosts.Host.3.HostName"
+   * @return the parameter value, null if the value or any object along the
+   *         path does not exist
+   * @throws IllegalArgumentException if the path is not a parameter path
+   */
+  public Object get(String path) {
+    InstancePath parsed = parse(path);
+    CompiledPath compiled = compileParameter(parsed);
+    PersistentObject current = this;
+    int instance = descriptor.isMultiInstance() ? 1 : 0;
+    for (ChildDescriptor step : compiled.getSteps()) {
+      Object child = current.children == null ? null : current.children[step.getOrdinal()];
+      if (child == null) {
+        return null;
+      }
+      current = step.isTable()
+                ? ((PersistentTable) child).get(parsed.getInstances()[instance++])
+                : (PersistentObject) child;
+      if (current == null) {
+        return null;
+      }
+    }
+    return current.getValue(compiled.getParameter().getOrdinal());
+  }
+
+  /**
+   * Set a parameter of the tree rooted at this object, creating missing
+   * objects and table rows along the path.
+   *
+   * @param path  the parameter path, e.g. "Device.Hosts.Host.3.HostName"
+   * @param value the new value, null to clear it
+   * @return the updated tree, this tree if the value is already set or a null
+   *         value is cleared below a missing object or row
+   * @throws IllegalArgumentException if the path is not a parameter path or
+   *                                  the value does not match its type
+   */
+  public PersistentObject with(String path, Object value) {
+    InstancePath parsed = parse(path);
+    CompiledPath compiled = compileParameter(parsed);
+    List<ChildDescriptor> steps = compiled.getSteps();
+    return with(steps, 0, parsed.getInstances(), descriptor.isMultiInstance() ? 1 : 0, compiled.getParameter(), value);
+  }
+
+  private PersistentObject with(List<ChildDescriptor> steps, int step, int[] instances, int instance,
+                                ParameterDescriptor parameter, Object value) {
+    if (step == steps.size()) {
+      return withValue(parameter, value);
+    }
+    ChildDescriptor child = steps.get(step);
+    Object current = children == null ? null : children[child.getOrdinal()];
+    // Clearing a value below a missing object or row leaves the tree as is.
+    if (current == null && value == null) {
+      return this;
+    }
+    if (child.isTable()) {
+      PersistentTable table = current == null ? PersistentTable.empty(child.getObject()) : (PersistentTable) current;
+      int number = instances[instance];
+      PersistentObject row = table.get(number);
+      if (row == null && value == null) {
+        return this;
+      }
+      PersistentObject updated = (row == null ? empty(child.getObject()) : row)
+        .with(steps, step + 1, instances, instance + 1, parameter, value);
+      return updated == row ? this : withChild(child, table.with(number, updated));
+    }
+    PersistentObject object = current == null ? empty(child.getObject()) : (PersistentObject) current;
+    PersistentObject updated = object.with(steps, step + 1, instances, instance, parameter, value);
+    return updated == current ? this : withChild(child, updated);
+  }
+
+  /**
+   * Remove a table row from the tree rooted at this object.
+   *
+   * @param path the row path, e.g. "Device.Hosts.Host.3."
+   * @return the updated tree, this tree if the row does not exist
+   * @throws IllegalArgumentException if the path is not a table row path
+   */
+  public PersistentObject without(String path) {
+    InstancePath parsed = parse(path);
+    CompiledPath compiled = compile(parsed);
+    List<ChildDescriptor> steps = compiled.getSteps();
+    if (compiled.isParameter() || steps.isEmpty() || !steps.get(steps.size() - 1).isTable()) {
+      throw new IllegalArgumentException(path + " is not a table row path");
+    }
+    return without(steps, 0, parsed.getInstances(), descriptor.isMultiInstance() ? 1 : 0);
+  }
+
+  private PersistentObject without(List<ChildDescriptor> steps, int step, int[] instances, int instance) {
+    ChildDescriptor child = steps.get(step);
+    Object current = children == null ? null : children[child.getOrdinal()];
+    if (current == null) {
+      return this;
+    }
+    if (child.isTable()) {
+      PersistentTable table = (PersistentTable) current;
+      int number = instances[instance];
+      if (step == steps.size() - 1) {
+        PersistentTable updated = table.without(number);
+        return updated == table ? this : withChild(child, updated);
+      }
+      PersistentObject row = table.get(number);
+      PersistentObject updated = row == null ? null : row.without(steps, step + 1, instances, instance + 1);
+      return updated == row ? this : withChild(child, table.with(number, updated));
+    }
+    PersistentObject updated = ((PersistentObject) current).without(steps, step + 1, instances, instance);
+    return updated == current ? this : withChild(child, updated);
+  }
+
+  /**
+   * @param name  the parameter name
+   * @param value the new value, null to clear it
+   * @return the updated object, this object if the value is already set
+   * @throws IllegalArgumentException if the object has no such parameter or
+   *                                  the value does not match its type
+   */
+  public PersistentObject withValue(String name, Object value) {
+    return withValue(parameter(descriptor, name), value);
+  }
+
+  private PersistentObject withValue(ParameterDescriptor parameter, Object value) {
+    Object current = getValue(parameter.getOrdinal());
+    if (Values.equal(current, value)) {
+      return this;
+    }
+    Object[] updated = values == null ? new Object[descriptor.getParameters().size()] : values.clone();
+    updated[parameter.getOrdinal()] = checkValue(parameter, value);
+    return new PersistentObject(descriptor, updated, children);
+  }
+
+  /**
+   * @param name   the name of a single-instance child object
+   * @param object the child object, null to remove it
+   * @return the updated object
+   * @throws IllegalArgumentException if the object has no such child object
+   *                                  or the child has another descriptor
+   */
+  public PersistentObject withObject(String name, PersistentObject object) {
+    ChildDescriptor child = child(descriptor, name, false);
+    return withChild(child, checkObject(child, object));
+  }
+
+  /**
+   * @param name  the name of a table
+   * @param table the table, null to remove it
+   * @return the updated object
+   * @throws IllegalArgumentException if the object has no such table or the
+   *                                  table has another row descriptor
+   */
+  public PersistentObject withTable(String name, PersistentTable table) {
+    ChildDescriptor child = child(descriptor, name, true);
+    return withChild(child, checkTable(child, table));
+  }
+
+  private PersistentObject withChild(ChildDescriptor child, Object value) {
+    Object[] updated = children == null ? new Object[descriptor.getChildren().size()] : children.clone();
+    updated[child.getOrdinal()] = value;
+    return new PersistentObject(descriptor, values, updated);
+  }
+
+  /**
+   * @return a builder initialized with the parameters and children of this
+   *         object
+   */
+  public Builder toBuilder() {
+    return new Builder(descriptor, values, children);
+  }
+
+  /**
+   * @param type the entity class, e.g. {@code Device.class}
+   * @return an empty builder
+   * @throws IllegalArgumentException if the class is not a CWMP object
+   */
+  public static Builder builder(Class<?> type) {
+    return new Builder(Metamodel.describe(type), null, null);
+  }
+
+  private static ParameterDescriptor parameter(ObjectDescriptor<?> descriptor, String name) {
+    ParameterDescriptor parameter = descriptor.getParameter(name);
+    if (parameter == null) {
+      throw new IllegalArgumentException(descriptor.getPath() + " has no parameter " + name);
+    }
+    return parameter;
+  }
+
+  private static ChildDescriptor child(ObjectDescriptor<?> descriptor, String name, boolean table) {
+    ChildDescriptor child = descriptor.getChild(name);
+    if (child == null || child.isTable() != table || child.getObject() == null) {
+      throw new IllegalArgumentException(descriptor.getPath() + " has no " + (table ? "table " : "object ") + name);
+    }
+    return child;
+  }
+
+  /**
+   * @return the immutable copy of a valid parameter value
+   */
+  private static Object checkValue(ParameterDescriptor parameter, Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (parameter.isList() ? !(value instanceof Collection) : !parameter.getType().isInstance(value)) {
+      throw new IllegalArgumentException("Invalid " + parameter.getName() + " value " + value);
+    }
+    return freeze(value);
+  }
+
+  private static PersistentObject checkObject(ChildDescriptor child, PersistentObject object) {
+    if (object != null && object.descriptor != child.getObject()) {
+      throw new IllegalArgumentException("Not a " + child.getObject() + " object: " + object.descriptor);
+    }
+    return object;
+  }
+
+  private static PersistentTable checkTable(ChildDescriptor child, PersistentTable table) {
+    if (table != null && table.getDescriptor() != child.getObject()) {
+      throw new IllegalArgumentException("Not a " + child.getObject() + " table: " + table.getDescriptor());
+    }
+    return table;
+  }
+
+  private InstancePath parse(String path) {
+    InstancePath parsed = InstancePath.parse(path);
+    if (parsed.getAliases() != null) {
+      throw new IllegalArgumentException("Alias paths are not supported: " + path);
+    }
+    return parsed;
+  }
+
+  private CompiledPath compileParameter(InstancePath path) {
+    CompiledPath compiled = compile(path);
+    if (!compiled.isParameter()) {
+      throw new IllegalArgumentException(path.getTemplate() + " is not a parameter path");
+    }
+    return compiled;
+  }
+
+  private CompiledPath compile(InstancePath path) {
+    if (descriptor != descriptor.getMetamodel().getRoot()) {
+      throw new IllegalArgumentException(descriptor.getPath() + " is not the root object");
+    }
+    return PathResolver.of(descriptor.getType()).compile(path.getTemplate());
+  }
+
+  @Override
+  public String toString() {
+    return "PersistentObject " + descriptor.getPath();
+  }
+
+  /**
+   * Collects several updates of one object into a single copy.
+   */
+  public static final class Builder {
+
+    private final ObjectDescriptor<?> descriptor;
+    private final Object[] values;
+    private final Object[] children;
+
+    private Builder(ObjectDescriptor<?> descriptor, Object[] values, Object[] children) {
+      this.descriptor = descriptor;
+      this.values = values == null ? new Object[descriptor.getParameters().size()] : values.clone();
+      this.children = children == null ? new Object[descriptor.getChildren().size()] : children.clone();
+    }
+
+    /**
+     * @param name  the parameter name
+     * @param value the value, null to clear it
+     * @return this builder
+     * @throws IllegalArgumentException if the object has no such parameter or
+     *                                  the value does not match its type
+     */
+    public Builder set(String name, Object value) {
+      ParameterDescriptor parameter = parameter(descriptor, name);
+      values[parameter.getOrdinal()] = checkValue(parameter, value);
+      return this;
+    }
+
+    /**
+     * @param name   the name of a single-instance child object
+     * @param object the child object, null to remove it
+     * @return this builder
+     */
+    public Builder setObject(String name, PersistentObject object) {
+      ChildDescriptor child = child(descriptor, name, false);
+      children[child.getOrdinal()] = checkObject(child, object);
+      return this;
+    }
+
+    /**
+     * @param name  the name of a table
+     * @param table the table, null to remove it
+     * @return this builder
+     */
+    public Builder setTable(String name, PersistentTable table) {
+      ChildDescriptor child = child(descriptor, name, true);
+      children[child.getOrdinal()] = checkTable(child, table);
+      return this;
+    }
+
+    public PersistentObject build() {
+      return new PersistentObject(descriptor, values.clone(), children.clone());
+    }
+
+  }
+
+}
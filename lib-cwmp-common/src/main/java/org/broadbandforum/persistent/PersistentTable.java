@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.persistent;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+
+/**
+ * An immutable table of {@link PersistentObject} rows, ordered and addressed
+ * by instance number.
+ * <p>
+ * Updates return a new table sharing the rows, which are themselves
+ * immutable, with this one. Lookup by instance number is a binary search.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class PersistentTable implements Iterable<PersistentObject> {
+
+  private static final int[] NO_INSTANCES = new int[0];
+  private static final PersistentObject[] NO_ROWS = new PersistentObject[0];
+
+  private final ObjectDescriptor<?> descriptor;
+  /**
+   * The instance numbers in ascending order.
+   */
+  private final int[] instances;
+  private final PersistentObject[] rows;
+  private final int nextInstanceNumber;
+
+  private PersistentTable(ObjectDescriptor<?> descriptor, int[] instances, PersistentObject[] rows, int nextInstanceNumber) {
+    this.descriptor = descriptor;
+    this.instances = instances;
+    this.rows = rows;
+    this.nextInstanceNumber = nextInstanceNumber;
+  }
+
+  /**
+   * @param descriptor the row object descriptor
+   * @return an empty table
+   */
+  public static PersistentTable empty(ObjectDescriptor<?> descriptor) {
+    return new PersistentTable(descriptor, NO_INSTANCES, NO_ROWS, 1);
+  }
+
+  /**
+   * Convert a mutable table. The rows of an {@link InstanceTable} keep their
+   * instance numbers; the rows of any other collection are numbered by
+   * position.
+   *
+   * @param descriptor the row object descriptor
+   * @param table      the table collection
+   * @return the immutable table
+   */
+  public static PersistentTable of(ObjectDescriptor<?> descriptor, Collection<?> table) {
+    int size = table.size();
+    int[] instances = new int[size];
+    PersistentObject[] rows = new PersistentObject[size];
+    boolean sorted = true;
+    int index = 0;
+    for (Object row : table) {
+      instances[index] = table instanceof InstanceTable ? ((InstanceTable<?>) table).instanceNumberOf(row) : index + 1;
+      rows[index] = PersistentObject.of(descriptor, row);
+      sorted &= index == 0 || instances[index] > instances[index - 1];
+      index++;
+    }
+    if (!sorted) {
+      sort(instances, rows);
+    }
+    int next = table instanceof InstanceTable ? ((InstanceTable<?>) table).getNextInstanceNumber() : size + 1;
+    return new PersistentTable(descriptor, instances, rows, next);
+  }
+
+  /**
+   * Sort the rows by instance number.
+   */
+  private static void sort(int[] instances, PersistentObject[] rows) {
+    Integer[] order = new Integer[instances.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Integer.compare(instances[a], instances[b]));
+    int[] sortedInstances = new int[instances.length];
+    PersistentObject[] sortedRows = new PersistentObject[rows.length];
+    for (int i = 0; i < order.length; i++) {
+      sortedInstances[i] = instances[order[i]];
+      sortedRows[i] = rows[order[i]];
+    }
+    System.arraycopy(sortedInstances, 0, instances, 0, instances.length);
+    System.arraycopy(sortedRows, 0, rows, 0, rows.length);
+  }
+
+  /**
+   * @return a new mutable instance table holding mutable copies of the rows
+   */
+  public InstanceTable<Object> toEntity() {
+    InstanceTable<Object> table = new InstanceTable<>();
+    for (int i = 0; i < rows.length; i++) {
+      table.put(instances[i], rows[i].toEntity());
+    }
+    table.setNextInstanceNumber(nextInstanceNumber);
+    return table;
+  }
+
+  /**
+   * @return the row object descriptor
+   */
+  public ObjectDescriptor<?> getDescriptor() {
+    return descriptor;
+  }
+
+  public int size() {
+    return rows.length;
+  }
+
+  public boolean isEmpty() {
+    return rows.length == 0;
+  }
+
+  /**
+   * @param instance the instance number
+   * @return the row, null if there is no such instance
+   */
+  public PersistentObject get(int instance) {
+    int index = Arrays.binarySearch(instances, instance);
+    return index < 0 ? null : rows[index];
+  }
+
+  /**
+   * @return the instance numbers in ascending order
+   */
+  public int[] getInstanceNumbers() {
+    return instances.clone();
+  }
+
+  /**
+   * @return the instance number the next added row will be assigned
+   */
+  public int getNextInstanceNumber() {
+    return nextInstanceNumber;
+  }
+
+  /**
+   * Add or replace a row.
+   *
+   * @param instance the instance number, at least 1
+   * @param row      the row
+   * @return the updated table, this table if the row is already in place
+   * @throws IllegalArgumentException if the instance number is not positive or
+   *                                  the row has another object descriptor
+   */
+  public PersistentTable with(int instance, PersistentObject row) {
+    if (instance < 1) {
+      throw new IllegalArgumentException("Invalid instance number " + instance);
+    }
+    if (row.getDescriptor() != descriptor) {
+      throw new IllegalArgumentException("Not a " + descriptor.getPath() + " row: " + row.getDescriptor().getPath());
+    }
+    int index = Arrays.binarySearch(instances, instance);
+    if (index >= 0) {
+      if (rows[index] == row) {
+        return this;
+      }
+      PersistentObject[] updated = rows.clone();
+      updated[index] = row;
+      return new PersistentTable(descriptor, instances, updated, nextInstanceNumber);
+    }
+    int insert = -index - 1;
+    int[] updatedInstances = new int[instances.length + 1];
+    PersistentObject[] updatedRows = new PersistentObject[rows.length + 1];
+    System.arraycopy(instances, 0, updatedInstances, 0, insert);
+    System.arraycopy(rows, 0, updatedRows, 0, insert);
+    updatedInstances[insert] = instance;
+    updatedRows[insert] = row;
+    System.arraycopy(instances, insert, updatedInstances, insert + 1, instances.length - insert);
+    System.arraycopy(rows, insert, updatedRows, insert + 1, rows.length - insert);
+    return new PersistentTable(descriptor, updatedInstances, updatedRows, Math.max(nextInstanceNumber, instance + 1));
+  }
+
+  /**
+   * Add a row with the next instance number.
+   *
+   * @param row the row
+   * @return the updated table
+   */
+  public PersistentTable with(PersistentObject row) {
+    return with(nextInstanceNumber, row);
+  }
+
+  /**
+   * Remove a row. Its instance number is not assigned again.
+   *
+   * @param instance the instance number
+   * @return the updated table, this table if there is no such instance
+   */
+  public PersistentTable without(int instance) {
+    int index = Arrays.binarySearch(instances, instance);
+    if (index < 0) {
+      return this;
+    }
+    int[] updatedInstances = new int[instances.length - 1];
+    PersistentObject[] updatedRows = new PersistentObject[rows.length - 1];
+    System.arraycopy(instances, 0, updatedInstances, 0, index);
+    System.arraycopy(rows, 0, updatedRows, 0, index);
+    System.arraycopy(instances, index + 1, updatedInstances, index, instances.length - index - 1);
+    System.arraycopy(rows, index + 1, updatedRows, index, rows.length - index - 1);
+    return new PersistentTable(descriptor, updatedInstances, updatedRows, nextInstanceNumber);
+  }
+
+  @Override
+  public Iterator<PersistentObject> iterator() {
+    return new Iterator<PersistentObject>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < rows.length;
+      }
+
+      @Override
+      public PersistentObject next() {
+        if (index >= rows.length) {
+          throw new NoSuchElementException();
+        }
+        return rows[index++];
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return descriptor.getPath() + " " + Arrays.toString(instances);
+  }
+
+}
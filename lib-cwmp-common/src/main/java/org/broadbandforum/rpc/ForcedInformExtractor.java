@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.rpc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * Reads the parameters marked {@code @CWMPParameter(forcedInform = true)},
+ * which every Inform {@code ParameterList} carries, e.g.
+ * {@code Device.RootDataModelVersion}.
+ * <p>
+ * The parameter names are resolved once per data model. The values are read
+ * by the generated descriptor of the root object through direct field access,
+ * into a reusable {@link Buffer}: no annotation, path or reflection is looked
+ * up per Inform. Only the parameters of single-instance objects are read; a
+ * multi-instance root object, e.g. {@code FAPService.{i}.}, is numbered 1.
+ * <p>
+ * Extractors are thread safe; buffers are not. Use {@link #of(Class)} to
+ * obtain the shared extractor of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ForcedInformExtractor {
+
+  private static final Map<Metamodel, ForcedInformExtractor> EXTRACTORS = new ConcurrentHashMap<>();
+
+  private final ObjectDescriptor<?> root;
+  /**
+   * The forcedInform parameters and their names, by slot.
+   */
+  private final ParameterDescriptor[] parameters;
+  private final String[] names;
+
+  public ForcedInformExtractor(Metamodel metamodel) {
+    this.root = metamodel.getRoot();
+    List<ParameterDescriptor> parameterList = new ArrayList<>();
+    List<String> nameList = new ArrayList<>();
+    String path = root.getPath();
+    collect(root, root.isMultiInstance() ? path.substring(0, path.length() - 4) + "1." : path, parameterList, nameList);
+    this.parameters = parameterList.toArray(new ParameterDescriptor[0]);
+    this.names = nameList.toArray(new String[0]);
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared extractor of the data model
+   */
+  public static ForcedInformExtractor of(Class<?> type) {
+    return EXTRACTORS.computeIfAbsent(Metamodel.of(type), ForcedInformExtractor::new);
+  }
+
+  /**
+   * Walk the single-instance objects in the slot order of
+   * {@link ObjectDescriptor#getForcedInform(Object, Object[])}.
+   */
+  private static void collect(ObjectDescriptor<?> object, String path, List<ParameterDescriptor> parameters, List<String> names) {
+    for (ParameterDescriptor parameter : object.getParameters()) {
+      if (parameter.isForcedInform()) {
+        parameters.add(parameter);
+        names.add(path + parameter.getName());
+      }
+    }
+    for (ChildDescriptor child : object.getChildren()) {
+      if (!child.isTable() && child.getObject() != null) {
+        collect(child.getObject(), path + child.getName() + ".", parameters, names);
+      }
+    }
+  }
+
+  /**
+   * @return the forcedInform parameter names, in slot order
+   */
+  public List<String> getNames() {
+    return Collections.unmodifiableList(Arrays.asList(names));
+  }
+
+  /**
+   * @return the number of forcedInform parameters
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * @return a new buffer sized for this data model
+   */
+  public Buffer newBuffer() {
+    return new Buffer(this);
+  }
+
+  /**
+   * Read the forcedInform parameters of a tree, replacing the buffer content.
+   *
+   * @param root   the root entity
+   * @param buffer a buffer of this extractor
+   * @return the number of parameters set
+   * @throws IllegalArgumentException if the tree is not a root object of this
+   *                                  data model or the buffer belongs to
+   *                                  another extractor
+   */
+  public int extract(Object root, Buffer buffer) {
+    if (!this.root.getType().isInstance(root)) {
+      throw new IllegalArgumentException(root.getClass().getName() + " is not the root object " + this.root.getPath());
+    }
+    if (buffer.extractor != this) {
+      throw new IllegalArgumentException("The buffer belongs to another data model");
+    }
+    Object[] values = buffer.values;
+    Arrays.fill(values, null);
+    this.root.getForcedInform(root, values);
+    int count = 0;
+    for (Object value : values) {
+      if (value != null) {
+        count++;
+      }
+    }
+    buffer.count = count;
+    return count;
+  }
+
+  /**
+   * The forcedInform parameter values of a tree, by slot. A slot is null if
+   * the parameter, or an object on its path, is not set.
+   */
+  public static final class Buffer {
+
+    private final ForcedInformExtractor extractor;
+    private final Object[] values;
+    private int count;
+
+    private Buffer(ForcedInformExtractor extractor) {
+      this.extractor = extractor;
+      this.values = new Object[extractor.names.length];
+    }
+
+    /**
+     * @return the number of slots
+     */
+    public int size() {
+      return values.length;
+    }
+
+    /**
+     * @return the number of set values after the last extract
+     */
+    public int count() {
+      return count;
+    }
+
+    public String getName(int slot) {
+      return extractor.names[slot];
+    }
+
+    public ParameterDescriptor getParameter(int slot) {
+      return extractor.parameters[slot];
+    }
+
+    /**
+     * @param slot the slot
+     * @return the value, null if not set
+     */
+    public Object getValue(int slot) {
+      return values[slot];
+    }
+
+    /**
+     * Write a {@code ParameterValueStruct} element for each set value, as
+     * {@link ParameterValueWriter} does. The {@code xsi} prefix must be bound
+     * by the enclosing SOAP envelope.
+     *
+     * @param writer the stream writer
+     * @return the number of parameters written
+     * @throws XMLStreamException if the output cannot be written
+     */
+    public int write(XMLStreamWriter writer) throws XMLStreamException {
+      int written = 0;
+      for (int i = 0; i < values.length; i++) {
+        String text = values[i] == null ? null : Values.text(values[i]);
+        if (text == null) {
+          continue;
+        }
+        writer.writeStartElement("ParameterValueStruct");
+        writer.writeStartElement("Name");
+        writer.writeCharacters(extractor.names[i]);
+        writer.writeEndElement();
+        writer.writeStartElement("Value");
+        writer.writeAttribute("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "type", extractor.parameters[i].getXsdType());
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+        writer.writeEndElement();
+        written++;
+      }
+      return written;
+    }
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.rpc;
+
+/**
+ * A parameter rejected by a {@code SetParameterValues} request, reported in
+ * the {@code SetParameterValuesFault} list of the CWMP fault 9003 (Invalid
+ * arguments).
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ParameterFault {
+
+  /**
+   * The fault code of the whole request when any parameter is rejected.
+   */
+  public static final int INVALID_ARGUMENTS = 9003;
+  public static final int INVALID_PARAMETER_NAME = 9005;
+  public static final int INVALID_PARAMETER_TYPE = 9006;
+  public static final int INVALID_PARAMETER_VALUE = 9007;
+  public static final int NON_WRITABLE_PARAMETER = 9008;
+
+  private final String parameterName;
+  private final int faultCode;
+  private final String faultString;
+
+  public ParameterFault(String parameterName, int faultCode, String faultString) {
+    this.parameterName = parameterName;
+    this.faultCode = faultCode;
+    this.faultString = faultString;
+  }
+
+  /**
+   * @return the parameter name, e.g. "Device.WiFi.Radio.1.Channel"
+   */
+  public String getParameterName() {
+    return parameterName;
+  }
+
+  /**
+   * @return the CWMP fault code, e.g. 9008
+   */
+  public int getFaultCode() {
+    return faultCode;
+  }
+
+  public String getFaultString() {
+    return faultString;
+  }
+
+  @Override
+  public String toString() {
+    return parameterName + " " + faultCode + " " + faultString;
+  }
+
+}
@@ -0,0 +1,493 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.rpc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.InstancePath;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+
+/**
+ * Answers a CWMP {@code GetParameterNames} request: writes the names below a
+ * parameter path as a {@code ParameterList} of {@code ParameterInfoStruct}
+ * elements, with their writability.
+ * <p>
+ * The object descriptors of a data model form a trie of its path templates,
+ * one node per object with its children keyed by path segment. The writer
+ * links a node to each descriptor once, holding the parameter names, the
+ * child segments with their trailing dot and the writability of each entry.
+ * A request then resolves its path through the compiled path of the template
+ * and walks the nodes below it, appending each segment to a single name
+ * buffer. Names are streamed as they are found: no list is built.
+ * <p>
+ * The walk covers either a populated tree, numbering table rows by instance
+ * number and skipping missing single-instance objects, or, with a null root,
+ * the schema, where each table row is named {@code {i}}. Following TR-069:
+ * <ul>
+ * <li>an empty path addresses the root object;</li>
+ * <li>a partial path, e.g. "Device.WiFi.", returns the object and everything
+ * below it, or only its parameters and child objects when NextLevel is
+ * true;</li>
+ * <li>a path to a table, e.g. "Device.Hosts.Host.", returns the table, then
+ * its rows, or only its rows when NextLevel is true;</li>
+ * <li>a parameter name returns the parameter, and NextLevel must be
+ * false.</li>
+ * </ul>
+ * A table and its rows are writable if rows may be added and deleted.
+ * <p>
+ * Writers are thread safe. Use {@link #of(Class)} to obtain the shared writer
+ * of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ParameterNameWriter {
+
+  private static final Map<Metamodel, ParameterNameWriter> WRITERS = new ConcurrentHashMap<>();
+  private static final String ROW = "{i}.";
+
+  private final PathResolver resolver;
+  /**
+   * The node of each object descriptor.
+   */
+  private final Map<ObjectDescriptor<?>, Node> nodes = new IdentityHashMap<>();
+
+  public ParameterNameWriter(PathResolver resolver) {
+    this.resolver = resolver;
+    for (ObjectDescriptor<?> object : resolver.getMetamodel().getObjects()) {
+      nodes.put(object, new Node(object));
+    }
+    for (Node node : nodes.values()) {
+      for (int i = 0; i < node.children.length; i++) {
+        node.childNodes[i] = nodes.get(node.children[i].getObject());
+      }
+    }
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared writer of the data model
+   */
+  public static ParameterNameWriter of(Class<?> type) {
+    return WRITERS.computeIfAbsent(Metamodel.of(type), metamodel -> new ParameterNameWriter(PathResolver.of(type)));
+  }
+
+  /**
+   * Write a standalone {@code ParameterList} element declaring its own
+   * namespaces, encoded as UTF-8.
+   *
+   * @param out       the output stream
+   * @param root      the root entity, null for the schema
+   * @param path      the ParameterPath of the request
+   * @param nextLevel the NextLevel of the request
+   * @return the number of names written
+   * @throws IOException              if the output cannot be written
+   * @throws IllegalArgumentException if the path is not valid or does not
+   *                                  exist, or NextLevel is true for a
+   *                                  parameter name
+   */
+  public int writeParameterList(OutputStream out, Object root, String path, boolean nextLevel) throws IOException {
+    int count = count(root, path, nextLevel);
+    StreamSink sink = new StreamSink(out);
+    sink.append("<ParameterList xmlns:cwmp=\"").append(ParameterValueWriter.CWMP_NAMESPACE)
+      .append("\" xmlns:soap-enc=\"").append(ParameterValueWriter.SOAP_ENCODING_NAMESPACE)
+      .append("\" soap-enc:arrayType=\"cwmp:ParameterInfoStruct[").append(Integer.toString(count)).append("]\">");
+    walk(root, path, nextLevel, sink);
+    sink.append("</ParameterList>");
+    sink.flush();
+    return count;
+  }
+
+  /**
+   * Write a {@code ParameterList} element. The {@code cwmp} and
+   * {@code soap-enc} prefixes must be bound by the enclosing SOAP envelope.
+   *
+   * @param writer    the stream writer
+   * @param root      the root entity, null for the schema
+   * @param path      the ParameterPath of the request
+   * @param nextLevel the NextLevel of the request
+   * @return the number of names written
+   * @throws XMLStreamException       if the output cannot be written
+   * @throws IllegalArgumentException if the path is not valid or does not
+   *                                  exist, or NextLevel is true for a
+   *                                  parameter name
+   */
+  public int writeParameterList(XMLStreamWriter writer, Object root, String path, boolean nextLevel) throws XMLStreamException {
+    int count = count(root, path, nextLevel);
+    writer.writeStartElement("ParameterList");
+    writer.writeAttribute("soap-enc", ParameterValueWriter.SOAP_ENCODING_NAMESPACE, "arrayType", "cwmp:ParameterInfoStruct[" + count + "]");
+    write(writer, root, path, nextLevel);
+    writer.writeEndElement();
+    return count;
+  }
+
+  /**
+   * Write the {@code ParameterInfoStruct} elements of a request, without an
+   * enclosing element.
+   *
+   * @param writer    the stream writer
+   * @param root      the root entity, null for the schema
+   * @param path      the ParameterPath of the request
+   * @param nextLevel the NextLevel of the request
+   * @return the number of names written
+   * @throws XMLStreamException       if the output cannot be written
+   * @throws IllegalArgumentException if the path is not valid or does not
+   *                                  exist, or NextLevel is true for a
+   *                                  parameter name
+   */
+  public int write(XMLStreamWriter writer, Object root, String path, boolean nextLevel) throws XMLStreamException {
+    try {
+      return walk(root, path, nextLevel, new StaxSink(writer));
+    } catch (IOException ex) {
+      throw (XMLStreamException) ex.getCause();
+    }
+  }
+
+  /**
+   * @param root      the root entity, null for the schema
+   * @param path      the ParameterPath of the request
+   * @param nextLevel the NextLevel of the request
+   * @return the number of names of the request
+   * @throws IllegalArgumentException if the path is not valid or does not
+   *                                  exist, or NextLevel is true for a
+   *                                  parameter name
+   */
+  public int count(Object root, String path, boolean nextLevel) {
+    try {
+      return walk(root, path, nextLevel, null);
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Pass the names of a request to a sink, in tree order.
+   *
+   * @param root      the root entity, null for the schema
+   * @param path      the ParameterPath of the request
+   * @param nextLevel the NextLevel of the request
+   * @param sink      receives the names, null to only count
+   * @return the number of names
+   * @throws IOException              if the sink fails
+   * @throws IllegalArgumentException if the path is not valid or does not
+   *                                  exist, or NextLevel is true for a
+   *                                  parameter name
+   */
+  public int walk(Object root, String path, boolean nextLevel, Sink sink) throws IOException {
+    ObjectDescriptor<?> rootObject = resolver.getMetamodel().getRoot();
+    if (root != null && !rootObject.getType().isInstance(root)) {
+      throw new IllegalArgumentException(root.getClass().getName() + " is not the root object " + rootObject.getPath());
+    }
+    if (path.isEmpty()) {
+      path = root != null && rootObject.isMultiInstance()
+             ? rootObject.getPath().substring(0, rootObject.getPath().length() - ROW.length()) + "1."
+             : rootObject.getPath();
+      if (nextLevel) {
+        return emit(sink, path, false);
+      }
+    }
+    InstancePath parsed = root == null ? null : InstancePath.parse(path);
+    String template = root == null ? path : parsed.getTemplate();
+    Walk walk = new Walk(sink, root == null, nextLevel, new StringBuilder(128));
+    if (!template.endsWith(".")) {
+      if (nextLevel) {
+        throw new IllegalArgumentException("NextLevel must be false for the parameter name " + path);
+      }
+      CompiledPath compiled = resolver.compile(template);
+      walk.name.append(root == null || parsed.getAliases() == null ? path : compiled.toInstancePath(root, parsed));
+      if (root != null && ownerOf(compiled, root, parsed) == null) {
+        throw new IllegalArgumentException("Invalid parameter name " + path);
+      }
+      return walk.emit(compiled.getParameter().isWritable());
+    }
+    int dot = template.lastIndexOf('.', template.length() - 2);
+    ChildDescriptor table = null;
+    if (dot > 0 && !template.endsWith(ROW)) {
+      // A path ending at a table addresses its parent object, then the table.
+      ObjectDescriptor<?> parent = resolver.getMetamodel().getObject(template.substring(0, dot + 1));
+      ChildDescriptor child = parent == null ? null : parent.getChild(template.substring(dot + 1, template.length() - 1));
+      table = child != null && child.isTable() ? child : null;
+    }
+    CompiledPath compiled = resolver.compile(table == null ? template : template.substring(0, dot + 1));
+    Object object = null;
+    if (root != null) {
+      object = compiled.resolve(root, parsed);
+      if (object == null) {
+        throw new IllegalArgumentException("Invalid parameter name " + path);
+      }
+      if (parsed.getAliases() != null) {
+        // Name the rows by instance number.
+        String instancePath = compiled.toInstancePath(root, parsed);
+        walk.name.append(instancePath);
+        if (table != null) {
+          walk.name.append(table.getName()).append('.');
+        }
+      }
+    }
+    if (walk.name.length() == 0) {
+      walk.name.append(path);
+    }
+    Node node = nodes.get(compiled.getObject());
+    if (table != null) {
+      int count = nextLevel ? 0 : walk.emit(table.isWritable());
+      Object rows = object == null ? null : compiled.getObject().getObject(object, table.getOrdinal());
+      return count + walk.rows(nodes.get(table.getObject()), table.isWritable(), rows, !nextLevel);
+    }
+    int count = 0;
+    if (!nextLevel) {
+      List<ChildDescriptor> steps = compiled.getSteps();
+      count += walk.emit(!steps.isEmpty() && steps.get(steps.size() - 1).isTable() && steps.get(steps.size() - 1).isWritable());
+    }
+    return count + walk.contents(node, object);
+  }
+
+  /**
+   * @return the object holding the addressed parameter, null if missing
+   */
+  private Object ownerOf(CompiledPath compiled, Object root, InstancePath parsed) {
+    String template = compiled.getTemplate();
+    return resolver.compile(template.substring(0, template.lastIndexOf('.') + 1)).resolve(root, parsed);
+  }
+
+  private static int emit(Sink sink, CharSequence name, boolean writable) throws IOException {
+    if (sink != null) {
+      sink.write(name, writable);
+    }
+    return 1;
+  }
+
+  /**
+   * Receives the names of a GetParameterNames request. The name buffer is
+   * reused and only valid during the call.
+   */
+  public interface Sink {
+
+    /**
+     * @param name     the parameter or object name; object names end with a
+     *                 dot
+     * @param writable the writability of the parameter or object
+     * @throws IOException if the name cannot be written
+     */
+    void write(CharSequence name, boolean writable) throws IOException;
+
+  }
+
+  /**
+   * The names of an object: its parameters and its child segments.
+   */
+  private static final class Node {
+
+    final ObjectDescriptor<?> object;
+    final String[] parameterNames;
+    final boolean[] writable;
+    final ChildDescriptor[] children;
+    /**
+     * The path segment of each child with its trailing dot, e.g. "Radio.".
+     */
+    final String[] childSegments;
+    final Node[] childNodes;
+
+    Node(ObjectDescriptor<?> object) {
+      this.object = object;
+      List<ParameterDescriptor> parameters = object.getParameters();
+      this.parameterNames = new String[parameters.size()];
+      this.writable = new boolean[parameters.size()];
+      for (int i = 0; i < parameterNames.length; i++) {
+        parameterNames[i] = parameters.get(i).getName();
+        writable[i] = parameters.get(i).isWritable();
+      }
+      // Children of classes outside the metamodel are not addressable.
+      this.children = object.getChildren().stream().filter(child -> child.getObject() != null).toArray(ChildDescriptor[]::new);
+      this.childSegments = new String[children.length];
+      for (int i = 0; i < children.length; i++) {
+        childSegments[i] = children[i].getName() + ".";
+      }
+      this.childNodes = new Node[children.length];
+    }
+  }
+
+  /**
+   * The state of a request: the sink, the mode and the name buffer.
+   */
+  private static final class Walk {
+
+    final Sink sink;
+    final boolean schema;
+    final boolean nextLevel;
+    final StringBuilder name;
+
+    Walk(Sink sink, boolean schema, boolean nextLevel, StringBuilder name) {
+      this.sink = sink;
+      this.schema = schema;
+      this.nextLevel = nextLevel;
+      this.name = name;
+    }
+
+    int emit(boolean writable) throws IOException {
+      return ParameterNameWriter.emit(sink, name, writable);
+    }
+
+    /**
+     * Walk the parameters and children of an object, the name holding its
+     * path. Below the first level, only if NextLevel is false.
+     *
+     * @param object the entity, null for the schema
+     */
+    int contents(Node node, Object object) throws IOException {
+      int count = 0;
+      int length = name.length();
+      for (int i = 0; i < node.parameterNames.length; i++) {
+        if (sink != null) {
+          name.setLength(length);
+          name.append(node.parameterNames[i]);
+          sink.write(name, node.writable[i]);
+        }
+        count++;
+      }
+      for (int i = 0; i < node.children.length; i++) {
+        ChildDescriptor child = node.children[i];
+        Object value = schema ? null : node.object.getObject(object, child.getOrdinal());
+        // A missing table is empty; a missing object does not exist.
+        if (!schema && value == null && !child.isTable()) {
+          continue;
+        }
+        name.setLength(length);
+        name.append(node.childSegments[i]);
+        count += emit(child.isTable() && child.isWritable());
+        if (nextLevel) {
+          continue;
+        }
+        if (child.isTable()) {
+          count += rows(node.childNodes[i], child.isWritable(), value, true);
+        } else {
+          count += contents(node.childNodes[i], value);
+        }
+      }
+      name.setLength(length);
+      return count;
+    }
+
+    /**
+     * Walk the rows of a table, the name holding its path.
+     *
+     * @param table the table collection, null for the schema
+     * @param deep  true to also walk the contents of each row
+     */
+    int rows(Node node, boolean writable, Object table, boolean deep) throws IOException {
+      int count = 0;
+      int length = name.length();
+      if (schema) {
+        name.append(ROW);
+        count += emit(writable);
+        if (deep) {
+          count += contents(node, null);
+        }
+      } else if (table != null) {
+        Collection<?> rows = (Collection<?>) table;
+        int position = 0;
+        for (Object row : rows) {
+          position++;
+          name.setLength(length);
+          name.append(rows instanceof InstanceTable ? ((InstanceTable<?>) rows).instanceNumberOf(row) : position).append('.');
+          count += emit(writable);
+          if (deep) {
+            count += contents(node, row);
+          }
+        }
+      }
+      name.setLength(length);
+      return count;
+    }
+  }
+
+  /**
+   * Writes to an XMLStreamWriter. A stream exception is carried as the cause
+   * of an IOException.
+   */
+  private static final class StaxSink implements Sink {
+
+    private final XMLStreamWriter writer;
+
+    StaxSink(XMLStreamWriter writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void write(CharSequence name, boolean writable) throws IOException {
+      try {
+        writer.writeStartElement("ParameterInfoStruct");
+        writer.writeStartElement("Name");
+        writer.writeCharacters(ParameterValueWriter.xmlText(name.toString()));
+        writer.writeEndElement();
+        writer.writeStartElement("Writable");
+        writer.writeCharacters(writable ? "1" : "0");
+        writer.writeEndElement();
+        writer.writeEndElement();
+      } catch (XMLStreamException ex) {
+        throw new IOException(ex);
+      }
+    }
+
+  }
+
+  /**
+   * Writes UTF-8 through the byte buffer of {@link ParameterValueWriter}.
+   */
+  private static final class StreamSink implements Sink {
+
+    private static final byte[] STRUCT_START = ParameterValueWriter.StreamSink.ascii("<ParameterInfoStruct><Name>");
+    private static final byte[] WRITABLE = ParameterValueWriter.StreamSink.ascii("</Name><Writable>1</Writable></ParameterInfoStruct>");
+    private static final byte[] READ_ONLY = ParameterValueWriter.StreamSink.ascii("</Name><Writable>0</Writable></ParameterInfoStruct>");
+
+    private final ParameterValueWriter.StreamSink out;
+
+    StreamSink(OutputStream out) {
+      this.out = new ParameterValueWriter.StreamSink(out);
+    }
+
+    @Override
+    public void write(CharSequence name, boolean writable) throws IOException {
+      out.append(STRUCT_START);
+      out.escape(name);
+      out.append(writable ? WRITABLE : READ_ONLY);
+    }
+
+    StreamSink append(String markup) throws IOException {
+      out.append(markup);
+      return this;
+    }
+
+    void flush() throws IOException {
+      out.flush();
+    }
+
+  }
+
+}
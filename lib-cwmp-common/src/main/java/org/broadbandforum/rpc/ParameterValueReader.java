@@ -0,0 +1,316 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.rpc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.broadbandforum.common.Enumerations;
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.InstancePath;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * Reads the {@code ParameterValueStruct} elements of a CWMP
+ * {@code ParameterList}, e.g. the body of a
+ * {@code GetParameterValuesResponse} or an {@code Inform}, into an entity
+ * tree.
+ * <p>
+ * The document is pulled through an {@link XMLStreamReader}: no DOM is built.
+ * Each parameter is routed by its name through the compiled path of its
+ * template and set on the tree, creating missing objects and table rows under
+ * the reported instance numbers. The value text is copied into a reused buffer
+ * and converted to the field type from there; numbers, booleans, dateTimes and
+ * counters are parsed without creating a String.
+ * <p>
+ * The value of a list parameter is split into one item per value. To read a
+ * long numeric list, e.g. the per sub-carrier values of
+ * {@code Device.DSL.Line.{i}.TestParams.SNRpsus}, without creating a String
+ * per item, pass a {@link ListSink}: it receives the value text from the
+ * buffer and may parse it with {@link Values#parseInts(CharSequence, int[])}
+ * or add it to a {@code BinStatistics} instead of the tree.
+ * <p>
+ * Parameters that are not defined by the data model, and values that are not
+ * valid for their parameter type, are skipped. The templates of unknown
+ * parameters are remembered so that a device reporting vendor extensions does
+ * not pay for failed path compilations on every read.
+ * <p>
+ * Readers are thread safe. Use {@link #of(Class)} to obtain the shared reader
+ * of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ParameterValueReader {
+
+  private static final Map<Metamodel, ParameterValueReader> READERS = new ConcurrentHashMap<>();
+  private static final XMLInputFactory FACTORY = newInputFactory();
+  /**
+   * The maximum number of remembered unknown templates.
+   */
+  private static final int MAX_UNKNOWN = 4096;
+
+  private final PathResolver resolver;
+  private final Set<String> unknown = ConcurrentHashMap.newKeySet();
+
+  public ParameterValueReader(PathResolver resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared reader of the data model
+   */
+  public static ParameterValueReader of(Class<?> type) {
+    return READERS.computeIfAbsent(Metamodel.of(type), metamodel -> new ParameterValueReader(PathResolver.of(type)));
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    return factory;
+  }
+
+  /**
+   * Read every {@code ParameterValueStruct} of a document into the tree.
+   *
+   * @param in   the document, e.g. a SOAP envelope or a standalone
+   *             {@code ParameterList}
+   * @param root the root entity
+   * @return the number of parameters set
+   * @throws IOException if the document cannot be read or is not well formed
+   */
+  public int read(InputStream in, Object root) throws IOException {
+    return read(in, root, null);
+  }
+
+  /**
+   * Read every {@code ParameterValueStruct} of a document into the tree,
+   * passing the list values to a sink first.
+   *
+   * @param in    the document
+   * @param root  the root entity
+   * @param lists receives the list values, may be null
+   * @return the number of parameters set or consumed by the sink
+   * @throws IOException if the document cannot be read or is not well formed
+   */
+  public int read(InputStream in, Object root, ListSink lists) throws IOException {
+    try {
+      XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+      try {
+        return read(reader, root, lists);
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Read every {@code ParameterValueStruct} from the current position of the
+   * reader to the end of the document into the tree.
+   *
+   * @param reader the stream reader
+   * @param root   the root entity
+   * @return the number of parameters set
+   * @throws XMLStreamException if the document is not well formed
+   */
+  public int read(XMLStreamReader reader, Object root) throws XMLStreamException {
+    return read(reader, root, null);
+  }
+
+  /**
+   * Read every {@code ParameterValueStruct} from the current position of the
+   * reader to the end of the document into the tree, passing the list values
+   * to a sink first.
+   *
+   * @param reader the stream reader
+   * @param root   the root entity
+   * @param lists  receives the list values, may be null
+   * @return the number of parameters set or consumed by the sink
+   * @throws XMLStreamException if the document is not well formed
+   */
+  public int read(XMLStreamReader reader, Object root, ListSink lists) throws XMLStreamException {
+    StringBuilder text = new StringBuilder(64);
+    int count = 0;
+    while (reader.hasNext()) {
+      if (reader.next() == XMLStreamConstants.START_ELEMENT
+          && "ParameterValueStruct".equals(reader.getLocalName())
+          && readStruct(reader, root, text, lists)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Read one struct, positioned on its start element, up to its end element.
+   *
+   * @param text a reusable buffer for the value text
+   * @return true if the parameter was set
+   */
+  private boolean readStruct(XMLStreamReader reader, Object root, StringBuilder text, ListSink lists) throws XMLStreamException {
+    String name = null;
+    String value = null;
+    boolean applied = false;
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      } else if (event == XMLStreamConstants.START_ELEMENT) {
+        if (depth == 1 && "Name".equals(reader.getLocalName())) {
+          name = reader.getElementText().trim();
+          if (value != null) {
+            applied = apply(root, name, value, lists);
+          }
+        } else if (depth == 1 && "Value".equals(reader.getLocalName())) {
+          readText(reader, text);
+          if (name == null) {
+            // The name is not known yet: keep a copy of the value.
+            value = text.toString();
+          } else {
+            applied = apply(root, name, text, lists);
+          }
+        } else {
+          depth++;
+        }
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Copy the text of an element, positioned on its start element, into the
+   * buffer. Leaves the reader on the end element.
+   */
+  private static void readText(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+    text.setLength(0);
+    int event = reader.next();
+    while (event != XMLStreamConstants.END_ELEMENT) {
+      if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+          || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE) {
+        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+      } else if (event != XMLStreamConstants.COMMENT && event != XMLStreamConstants.PROCESSING_INSTRUCTION) {
+        throw new XMLStreamException("Unexpected element in parameter value", reader.getLocation());
+      }
+      event = reader.next();
+    }
+  }
+
+  /**
+   * Read a single parameter into the tree.
+   *
+   * @param root the root entity
+   * @param name the parameter name, e.g. "Device.WiFi.Radio.1.Channel"
+   * @param text the value text
+   * @return true if the parameter was set, false if the name is not a
+   *         parameter of the data model or the text is not a valid value
+   */
+  public boolean apply(Object root, String name, CharSequence text) {
+    return apply(root, name, text, null);
+  }
+
+  /**
+   * Read a single parameter into the tree, passing a list value to a sink
+   * first.
+   *
+   * @param root  the root entity
+   * @param name  the parameter name
+   * @param text  the value text
+   * @param lists receives the list values, may be null
+   * @return true if the parameter was set or consumed by the sink
+   */
+  public boolean apply(Object root, String name, CharSequence text, ListSink lists) {
+    try {
+      InstancePath path = InstancePath.parse(name);
+      CompiledPath compiled = compile(path.getTemplate());
+      if (compiled == null || !compiled.isParameter()) {
+        return false;
+      }
+      ParameterDescriptor parameter = compiled.getParameter();
+      if (lists != null && parameter.isList() && lists.accept(path, parameter, text)) {
+        return true;
+      }
+      Object value = parameter.isList()
+                     ? Values.parseList(text, parameter.getType())
+                     : parameter.isEnumeration()
+                       ? Enumerations.intern(text)
+                       : Values.parse(text, parameter.getType());
+      if (path.getAliases() == null) {
+        compiled.putValue(root, path.getInstances(), value);
+      } else {
+        // Rows addressed by alias must already exist.
+        compiled.setValue(root, path, value);
+      }
+      return true;
+    } catch (IllegalArgumentException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * @return the compiled path, null if the template is not defined by the
+   *         data model
+   */
+  private CompiledPath compile(String template) {
+    if (unknown.contains(template)) {
+      return null;
+    }
+    try {
+      return resolver.compile(template);
+    } catch (IllegalArgumentException ex) {
+      if (unknown.size() < MAX_UNKNOWN) {
+        unknown.add(template);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Receives the value text of the list parameters read, before it is split
+   * into items. The text buffer is reused and only valid during the call.
+   */
+  public interface ListSink {
+
+    /**
+     * @param path      the parameter instance path
+     * @param parameter the list parameter, e.g. {@code SNRpsus}
+     * @param text      the comma-separated value text
+     * @return true if the value was consumed and is not set on the tree,
+     *         false to set it
+     * @throws IllegalArgumentException if the text is not valid, e.g. an
+     *                                  item is not a number; the parameter
+     *                                  is skipped
+     */
+    boolean accept(InstancePath path, ParameterDescriptor parameter, CharSequence text);
+
+  }
+
+}
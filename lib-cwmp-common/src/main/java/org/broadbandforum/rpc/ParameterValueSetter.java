@@ -0,0 +1,361 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.rpc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.broadbandforum.common.Enumerations;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.InstancePath;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.metamodel.Tables;
+import org.broadbandforum.metamodel.Values;
+import org.broadbandforum.metamodel.Violation;
+import org.broadbandforum.metamodel.Violations;
+
+/**
+ * Applies the {@code ParameterValueStruct}s of a CWMP
+ * {@code SetParameterValues} request to an entity tree, all or nothing.
+ * <p>
+ * Each parameter is routed through the compiled path of its template and, in
+ * the same pass, checked against the metamodel: an unknown name is rejected
+ * with fault 9005, a parameter that is not {@code readWrite} with fault 9008,
+ * a value of the wrong type with fault 9006 and a value text that does not
+ * parse with fault 9007. Value text is converted as by
+ * {@link ParameterValueReader}. The set values are then checked by the
+ * generated validators of their objects, and against the unique keys of
+ * their tables; a violation is rejected with fault 9007.
+ * <p>
+ * Rows must exist, addressed by instance number or by alias. Missing
+ * single-instance objects along a path are created. On any fault every
+ * change made by the request, including the created objects, is rolled back
+ * and the tree is left as it was. Once a fault is found the remaining
+ * parameters are checked for their name, access and value but not applied.
+ * An applied request marks its parameters as changed in a tracked tree.
+ * <p>
+ * Setters are thread safe; a tree must not be read or written by another
+ * thread while a request is applied to it. Use {@link #of(Class)} to obtain
+ * the shared setter of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ParameterValueSetter {
+
+  private static final Map<Metamodel, ParameterValueSetter> SETTERS = new ConcurrentHashMap<>();
+
+  private final PathResolver resolver;
+
+  public ParameterValueSetter(PathResolver resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared setter of the data model
+   */
+  public static ParameterValueSetter of(Class<?> type) {
+    return SETTERS.computeIfAbsent(Metamodel.of(type), metamodel -> new ParameterValueSetter(PathResolver.of(type)));
+  }
+
+  /**
+   * Apply the parameter values of a SetParameterValues request.
+   *
+   * @param root   the root entity
+   * @param values the values by parameter name, e.g.
+   *               "Device.WiFi.Radio.1.Channel". A value is either its text
+   *               or an instance of the parameter type; a list parameter
+   *               takes a collection of items.
+   * @return the faults of the rejected parameters, empty if every value was
+   *         applied
+   * @throws IllegalArgumentException if the tree is not a root object of this
+   *                                  data model
+   */
+  public List<ParameterFault> apply(Object root, Map<String, ?> values) {
+    Metamodel metamodel = resolver.getMetamodel();
+    if (metamodel.getObject(root.getClass()) != metamodel.getRoot()) {
+      throw new IllegalArgumentException(root.getClass().getName() + " is not the root object of " + metamodel);
+    }
+    Request request = new Request(metamodel.getRoot(), root, values.size());
+    for (Map.Entry<String, ?> entry : values.entrySet()) {
+      request.set(entry.getKey(), entry.getValue());
+    }
+    if (request.faults == null) {
+      request.validate();
+    }
+    if (request.faults == null) {
+      request.commit();
+      return Collections.emptyList();
+    }
+    request.rollback();
+    return request.faults;
+  }
+
+  /**
+   * @return the value converted to the parameter type
+   * @throws IllegalArgumentException if the text is not a valid value
+   */
+  private static Object convert(ParameterDescriptor parameter, CharSequence text) {
+    return parameter.isList()
+           ? Values.parseList(text, parameter.getType())
+           : parameter.isEnumeration()
+             ? Enumerations.intern(text)
+             : Values.parse(text, parameter.getType());
+  }
+
+  /**
+   * @return true if the value is an instance of the parameter type
+   */
+  private static boolean isInstance(ParameterDescriptor parameter, Object value) {
+    if (!parameter.isList()) {
+      return parameter.getType().isInstance(value);
+    }
+    if (!(value instanceof Collection)) {
+      return false;
+    }
+    for (Object item : (Collection<?>) value) {
+      if (!parameter.getType().isInstance(item)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A change made by a request, undone on rollback: a parameter value, or a
+   * single-instance object created along a path.
+   */
+  private static final class Change {
+
+    final ObjectDescriptor<?> descriptor;
+    final Object owner;
+    final int ordinal;
+    /**
+     * The parameter name, null for a created object.
+     */
+    final String name;
+    final Object oldValue;
+    /**
+     * The table holding the owner row if the parameter is a unique key of
+     * the row, otherwise null.
+     */
+    final InstanceTable<Object> table;
+
+    Change(ObjectDescriptor<?> descriptor, Object owner, int ordinal, String name, Object oldValue,
+           InstanceTable<Object> table) {
+      this.descriptor = descriptor;
+      this.owner = owner;
+      this.ordinal = ordinal;
+      this.name = name;
+      this.oldValue = oldValue;
+      this.table = table;
+    }
+
+    void undo() {
+      if (name == null) {
+        descriptor.setObject(owner, ordinal, null);
+      } else {
+        descriptor.setValue(owner, ordinal, oldValue);
+        if (table != null) {
+          table.reindex(owner);
+        }
+      }
+    }
+  }
+
+  /**
+   * The state of one request: the changes made so far and the faults found.
+   */
+  private final class Request {
+
+    private final ObjectDescriptor<?> rootObject;
+    private final Object root;
+    private final List<Change> changes;
+    private List<ParameterFault> faults;
+    /**
+     * The table holding the object returned by the last owner walk, null if
+     * the object is not a table row.
+     */
+    private Collection<?> ownerTable;
+
+    Request(ObjectDescriptor<?> rootObject, Object root, int size) {
+      this.rootObject = rootObject;
+      this.root = root;
+      this.changes = new ArrayList<>(size);
+    }
+
+    void set(String name, Object value) {
+      CompiledPath compiled;
+      InstancePath path;
+      try {
+        path = InstancePath.parse(name);
+        compiled = resolver.compile(path.getTemplate());
+      } catch (IllegalArgumentException ex) {
+        fault(name, ParameterFault.INVALID_PARAMETER_NAME, "Invalid parameter name");
+        return;
+      }
+      if (!compiled.isParameter()) {
+        fault(name, ParameterFault.INVALID_PARAMETER_NAME, "Invalid parameter name");
+        return;
+      }
+      ParameterDescriptor parameter = compiled.getParameter();
+      if (!parameter.isWritable()) {
+        fault(name, ParameterFault.NON_WRITABLE_PARAMETER, "Attempt to set a non-writable parameter");
+        return;
+      }
+      Object converted;
+      if (value instanceof CharSequence) {
+        try {
+          converted = convert(parameter, (CharSequence) value);
+        } catch (IllegalArgumentException ex) {
+          fault(name, ParameterFault.INVALID_PARAMETER_VALUE, "Invalid parameter value");
+          return;
+        }
+      } else if (value != null && isInstance(parameter, value)) {
+        converted = value;
+      } else {
+        fault(name, ParameterFault.INVALID_PARAMETER_TYPE, "Invalid parameter type");
+        return;
+      }
+      if (faults != null) {
+        return;
+      }
+      Object owner = owner(compiled, path);
+      if (owner == null) {
+        fault(name, ParameterFault.INVALID_PARAMETER_NAME, "No such object instance");
+        return;
+      }
+      ObjectDescriptor<?> object = compiled.getObject();
+      int ordinal = parameter.getOrdinal();
+      @SuppressWarnings("unchecked")
+      InstanceTable<Object> table = ownerTable instanceof InstanceTable && object.isUniqueKey(parameter)
+                                    ? (InstanceTable<Object>) ownerTable : null;
+      changes.add(new Change(object, owner, ordinal, name, object.getValue(owner, ordinal), table));
+      object.setValue(owner, ordinal, converted);
+      if (table != null) {
+        table.reindex(owner);
+      }
+    }
+
+    /**
+     * Walk to the object owning a parameter, creating missing single-instance
+     * objects.
+     *
+     * @return the owner, null if a table row along the path does not exist
+     */
+    private Object owner(CompiledPath compiled, InstancePath path) {
+      int[] instances = path.getInstances();
+      String[] aliases = path.getAliases();
+      int index = rootObject.isMultiInstance() ? 1 : 0;
+      ObjectDescriptor<?> descriptor = rootObject;
+      Object current = root;
+      ownerTable = null;
+      for (ChildDescriptor step : compiled.getSteps()) {
+        Object child = descriptor.getObject(current, step.getOrdinal());
+        if (step.isTable()) {
+          ownerTable = (Collection<?>) child;
+          current = aliases == null || aliases[index] == null
+                    ? Tables.row(ownerTable, instances[index])
+                    : Tables.rowByAlias(ownerTable, step.getObject(), aliases[index]);
+          index++;
+          if (current == null) {
+            return null;
+          }
+        } else {
+          ownerTable = null;
+          if (child == null) {
+            child = step.getObject().newInstance();
+            descriptor.setObject(current, step.getOrdinal(), child);
+            changes.add(new Change(descriptor, current, step.getOrdinal(), null, null, null));
+          }
+          current = child;
+        }
+        descriptor = step.getObject();
+      }
+      return current;
+    }
+
+    /**
+     * Check the objects holding the set values with their generated
+     * validators, and the set unique keys against the other rows. Violations
+     * of parameters the request did not set are ignored.
+     */
+    void validate() {
+      Map<Object, List<Violation>> checked = new IdentityHashMap<>();
+      for (Change change : changes) {
+        if (change.name == null) {
+          continue;
+        }
+        List<Violation> violations = checked.get(change.owner);
+        if (violations == null) {
+          Violations collector = new Violations(change.name.substring(0, change.name.lastIndexOf('.') + 1));
+          change.descriptor.validate(change.owner, collector);
+          violations = collector.getViolations();
+          checked.put(change.owner, violations);
+        }
+        boolean valid = true;
+        for (int i = 0; i < violations.size() && valid; i++) {
+          if (violations.get(i).getPath().equals(change.name)) {
+            fault(change.name, ParameterFault.INVALID_PARAMETER_VALUE, "Invalid parameter value: " + violations.get(i).getMessage());
+            valid = false;
+          }
+        }
+        if (valid && change.table != null && change.table.findConflict(change.owner) != null) {
+          fault(change.name, ParameterFault.INVALID_PARAMETER_VALUE, "Invalid parameter value: duplicate unique key");
+        }
+      }
+    }
+
+    /**
+     * Mark the set parameters in the dirty bits of their tracked objects.
+     */
+    void commit() {
+      for (Change change : changes) {
+        if (change.name != null) {
+          change.descriptor.markChanged(change.owner, change.ordinal);
+        }
+      }
+    }
+
+    /**
+     * Undo every change, last first.
+     */
+    void rollback() {
+      for (int i = changes.size() - 1; i >= 0; i--) {
+        changes.get(i).undo();
+      }
+    }
+
+    private void fault(String name, int code, String message) {
+      if (faults == null) {
+        faults = new ArrayList<>();
+      }
+      faults.add(new ParameterFault(name, code, message));
+    }
+  }
+
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.rpc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.CompiledPath;
+import org.broadbandforum.metamodel.InstancePath;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * Writes the parameters of an entity tree as a CWMP {@code ParameterList} of
+ * {@code ParameterValueStruct} elements, e.g. the body of a
+ * {@code GetParameterValuesResponse}.
+ * <p>
+ * The tree is walked through the generated object descriptors and every
+ * parameter is written straight to an {@link XMLStreamWriter} or, encoded as
+ * UTF-8, to an {@link OutputStream}: no DOM or intermediate list is built.
+ * Null parameters, and counters that are not available, are skipped. The
+ * {@code xsi:type} of each value is the declared type of its parameter,
+ * see {@link ParameterDescriptor#getXsdType()}, whatever the value.
+ * Characters XML 1.0 does not allow, even as a character reference,
+ * e.g. the control characters other than tab, line feed and carriage return,
+ * are written as '?'.
+ * <p>
+ * Writers are thread safe. Use {@link #of(Class)} to obtain the shared writer
+ * of a data model.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class ParameterValueWriter {
+
+  public static final String CWMP_NAMESPACE = "urn:dslforum-org:cwmp-1-0";
+  public static final String SOAP_ENCODING_NAMESPACE = "http://schemas.xmlsoap.org/soap/encoding/";
+
+  private static final Map<Metamodel, ParameterValueWriter> WRITERS = new ConcurrentHashMap<>();
+  private static final String ROW = "{i}.";
+
+  private final PathResolver resolver;
+
+  public ParameterValueWriter(PathResolver resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * @param type any entity class of the data model, e.g.
+   *             {@code Device.class}
+   * @return the shared writer of the data model
+   */
+  public static ParameterValueWriter of(Class<?> type) {
+    return WRITERS.computeIfAbsent(Metamodel.of(type), metamodel -> new ParameterValueWriter(PathResolver.of(type)));
+  }
+
+  /**
+   * Write a standalone {@code ParameterList} element declaring its own
+   * namespaces, encoded as UTF-8.
+   *
+   * @param out   the output stream
+   * @param root  the root entity
+   * @param names the parameter names and partial paths, as in a
+   *              GetParameterValues request
+   * @return the number of parameters written
+   * @throws IOException              if the output cannot be written
+   * @throws IllegalArgumentException if a name is not valid
+   */
+  public int writeParameterList(OutputStream out, Object root, String... names) throws IOException {
+    int count = count(root, names);
+    StreamSink sink = new StreamSink(out);
+    sink.append("<ParameterList xmlns:cwmp=\"").append(CWMP_NAMESPACE)
+      .append("\" xmlns:soap-enc=\"").append(SOAP_ENCODING_NAMESPACE)
+      .append("\" xmlns:xsi=\"").append(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI)
+      .append("\" xmlns:xsd=\"").append(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+      .append("\" soap-enc:arrayType=\"cwmp:ParameterValueStruct[").append(Integer.toString(count)).append("]\">");
+    walk(sink, root, names);
+    sink.append("</ParameterList>");
+    sink.flush();
+    return count;
+  }
+
+  /**
+   * Write a {@code ParameterList} element. The {@code cwmp}, {@code soap-enc},
+   * {@code xsi} and {@code xsd} prefixes must be bound by the enclosing SOAP
+   * envelope.
+   *
+   * @param writer the stream writer
+   * @param root   the root entity
+   * @param names  the parameter names and partial paths
+   * @return the number of parameters written
+   * @throws XMLStreamException       if the output cannot be written
+   * @throws IllegalArgumentException if a name is not valid
+   */
+  public int writeParameterList(XMLStreamWriter writer, Object root, String... names) throws XMLStreamException {
+    int count = count(root, names);
+    writer.writeStartElement("ParameterList");
+    writer.writeAttribute("soap-enc", SOAP_ENCODING_NAMESPACE, "arrayType", "cwmp:ParameterValueStruct[" + count + "]");
+    write(writer, root, names);
+    writer.writeEndElement();
+    return count;
+  }
+
+  /**
+   * Write the {@code ParameterValueStruct} elements of the given names,
+   * without an enclosing element.
+   *
+   * @param writer the stream writer
+   * @param root   the root entity
+   * @param names  the parameter names and partial paths, e.g.
+   *               "Device.WiFi.Radio.1.Channel" or "Device.WiFi."; an empty
+   *               name addresses the whole tree
+   * @return the number of parameters written
+   * @throws XMLStreamException       if the output cannot be written
+   * @throws IllegalArgumentException if a name is not valid
+   */
+  public int write(XMLStreamWriter writer, Object root, String... names) throws XMLStreamException {
+    try {
+      return walk(new StaxSink(writer), root, names);
+    } catch (IOException ex) {
+      throw (XMLStreamException) ex.getCause();
+    }
+  }
+
+  /**
+   * @param root  the root entity
+   * @param names the parameter names and partial paths
+   * @return the number of parameters the names address
+   * @throws IllegalArgumentException if a name is not valid
+   */
+  public int count(Object root, String... names) {
+    try {
+      return walk(null, root, names);
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Walk the given names. A null sink only counts.
+   */
+  private int walk(Sink sink, Object root, String... names) throws IOException {
+    int count = 0;
+    StringBuilder name = new StringBuilder(128);
+    for (String path : names) {
+      if (path.isEmpty()) {
+        path = resolver.getMetamodel().getRoot().getPath();
+      }
+      InstancePath parsed = InstancePath.parse(path);
+      String template = parsed.getTemplate();
+      ChildDescriptor table = table(template);
+      if (table != null) {
+        // A path ending at a table lists every row.
+        CompiledPath compiled = resolver.compile(template.substring(0, template.lastIndexOf('.', template.length() - 2) + 1));
+        Object object = compiled.resolve(root, parsed);
+        Object rows = object == null ? null : compiled.getObject().getObject(object, table.getOrdinal());
+        if (rows != null && table.getObject() != null) {
+          name.setLength(0);
+          name.append(parsed.getAliases() == null ? path : compiled.toInstancePath(root, parsed) + table.getName() + '.');
+          count += rows(sink, table, (Collection<?>) rows, name);
+        }
+        continue;
+      }
+      CompiledPath compiled = resolver.compile(template);
+      if (compiled.isParameter()) {
+        Object value = compiled.getValue(root, parsed);
+        if (isPresent(value)) {
+          if (sink != null) {
+            sink.write(parsed.getAliases() == null ? path : compiled.toInstancePath(root, parsed), compiled.getParameter(), value);
+          }
+          count++;
+        }
+        continue;
+      }
+      Object object = compiled.resolve(root, parsed);
+      if (object != null) {
+        name.setLength(0);
+        name.append(parsed.getAliases() == null ? path : compiled.toInstancePath(root, parsed));
+        count += walk(sink, compiled.getObject(), object, name);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @param template a path template
+   * @return the table a partial path ends at, e.g. "Device.Hosts.Host.", null
+   *         if the path does not end at a table
+   */
+  private ChildDescriptor table(String template) {
+    if (!template.endsWith(".") || template.endsWith(ROW)) {
+      return null;
+    }
+    int dot = template.lastIndexOf('.', template.length() - 2);
+    if (dot < 0) {
+      return null;
+    }
+    ObjectDescriptor<?> parent = resolver.getMetamodel().getObject(template.substring(0, dot + 1));
+    ChildDescriptor child = parent == null ? null : parent.getChild(template.substring(dot + 1, template.length() - 1));
+    return child != null && child.isTable() ? child : null;
+  }
+
+  private int walk(Sink sink, ObjectDescriptor<?> descriptor, Object object, StringBuilder name) throws IOException {
+    int count = 0;
+    int length = name.length();
+    for (ParameterDescriptor parameter : descriptor.getParameters()) {
+      Object value = descriptor.getValue(object, parameter.getOrdinal());
+      if (isPresent(value)) {
+        if (sink != null) {
+          name.setLength(length);
+          name.append(parameter.getName());
+          sink.write(name, parameter, value);
+        }
+        count++;
+      }
+    }
+    for (ChildDescriptor child : descriptor.getChildren()) {
+      Object value = descriptor.getObject(object, child.getOrdinal());
+      if (value == null || child.getObject() == null) {
+        continue;
+      }
+      name.setLength(length);
+      name.append(child.getName()).append('.');
+      count += child.isTable()
+               ? rows(sink, child, (Collection<?>) value, name)
+               : walk(sink, child.getObject(), value, name);
+    }
+    name.setLength(length);
+    return count;
+  }
+
+  /**
+   * Walk the rows of a table, named after the table path in the builder.
+   */
+  private int rows(Sink sink, ChildDescriptor child, Collection<?> table, StringBuilder name) throws IOException {
+    int count = 0;
+    int length = name.length();
+    int position = 0;
+    for (Object row : table) {
+      position++;
+      int instance = table instanceof InstanceTable ? ((InstanceTable<?>) table).instanceNumberOf(row) : position;
+      name.setLength(length);
+      name.append(instance).append('.');
+      count += walk(sink, child.getObject(), row, name);
+    }
+    name.setLength(length);
+    return count;
+  }
+
+  /**
+   * @param value a parameter value
+   * @return true if the value has a text, i.e. {@link Values#text(Object)} is
+   *         not null
+   */
+  private static boolean isPresent(Object value) {
+    if (value == null) {
+      return false;
+    }
+    if (value instanceof String || value instanceof Number || value instanceof Boolean
+        || value instanceof LocalDateTime || value instanceof Collection) {
+      return true;
+    }
+    return Values.text(value) != null;
+  }
+
+  /**
+   * @param text a name or value
+   * @return the text, with the characters XML does not allow replaced by '?'
+   */
+  static String xmlText(String text) {
+    char[] chars = null;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+        i++;
+      } else if (c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c >= 0xfffe || Character.isSurrogate(c)) {
+        if (chars == null) {
+          chars = text.toCharArray();
+        }
+        chars[i] = '?';
+      }
+    }
+    return chars == null ? text : new String(chars);
+  }
+
+  /**
+   * Receives the ParameterValueStructs of a walk.
+   */
+  private interface Sink {
+
+    void write(CharSequence name, ParameterDescriptor parameter, Object value) throws IOException;
+
+  }
+
+  /**
+   * Writes to an XMLStreamWriter. A stream exception is carried as the cause
+   * of an IOException.
+   */
+  private static final class StaxSink implements Sink {
+
+    private final XMLStreamWriter writer;
+
+    StaxSink(XMLStreamWriter writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void write(CharSequence name, ParameterDescriptor parameter, Object value) throws IOException {
+      try {
+        writer.writeStartElement("ParameterValueStruct");
+        writer.writeStartElement("Name");
+        writer.writeCharacters(xmlText(name.toString()));
+        writer.writeEndElement();
+        writer.writeStartElement("Value");
+        writer.writeAttribute("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "type", parameter.getXsdType());
+        writer.writeCharacters(xmlText(Values.text(value)));
+        writer.writeEndElement();
+        writer.writeEndElement();
+      } catch (XMLStreamException ex) {
+        throw new IOException(ex);
+      }
+    }
+
+  }
+
+  /**
+   * Writes UTF-8 through a byte buffer, escaping the XML markup characters of
+   * names and values. An unpaired surrogate and the other characters XML does
+   * not allow are written as '?'.
+   */
+  static final class StreamSink implements Sink {
+
+    private static final byte[] STRUCT_START = ascii("<ParameterValueStruct><Name>");
+    private static final byte[] VALUE_START = ascii("</Name><Value xsi:type=\"");
+    private static final byte[] VALUE_TYPE_END = ascii("\">");
+    private static final byte[] STRUCT_END = ascii("</Value></ParameterValueStruct>");
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[8192];
+    private int position;
+
+    StreamSink(OutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(CharSequence name, ParameterDescriptor parameter, Object value) throws IOException {
+      append(STRUCT_START);
+      escape(name);
+      append(VALUE_START);
+      append(parameter.getXsdType());
+      append(VALUE_TYPE_END);
+      escape(Values.text(value));
+      append(STRUCT_END);
+    }
+
+    static byte[] ascii(String markup) {
+      return markup.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    void append(byte[] markup) throws IOException {
+      if (position > buffer.length - markup.length) {
+        drain();
+      }
+      System.arraycopy(markup, 0, buffer, position, markup.length);
+      position += markup.length;
+    }
+
+    /**
+     * Append markup, which is ASCII.
+     */
+    StreamSink append(String markup) throws IOException {
+      int length = markup.length();
+      for (int i = 0; i < length; i++) {
+        if (position == buffer.length) {
+          drain();
+        }
+        buffer[position++] = (byte) markup.charAt(i);
+      }
+      return this;
+    }
+
+    void escape(CharSequence text) throws IOException {
+      int length = text.length();
+      for (int i = 0; i < length; i++) {
+        if (position > buffer.length - 6) {
+          drain();
+        }
+        char c = text.charAt(i);
+        if (c < 0x80) {
+          switch (c) {
+            case '<':
+              position = put(position, '&', 'l', 't', ';');
+              break;
+            case '>':
+              position = put(position, '&', 'g', 't', ';');
+              break;
+            case '&':
+              position = put(position, '&', 'a', 'm', 'p');
+              buffer[position++] = ';';
+              break;
+            case '\r':
+              position = put(position, '&', '#', '1', '3');
+              buffer[position++] = ';';
+              break;
+            default:
+              buffer[position++] = c < 0x20 && c != '\t' && c != '\n' ? (byte) '?' : (byte) c;
+          }
+        } else if (c < 0x800) {
+          buffer[position++] = (byte) (0xc0 | c >> 6);
+          buffer[position++] = (byte) (0x80 | c & 0x3f);
+        } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+          int code = Character.toCodePoint(c, text.charAt(++i));
+          position = put(position, (char) (0xf0 | code >> 18), (char) (0x80 | code >> 12 & 0x3f),
+                         (char) (0x80 | code >> 6 & 0x3f), (char) (0x80 | code & 0x3f));
+        } else if (Character.isSurrogate(c) || c >= 0xfffe) {
+          buffer[position++] = '?';
+        } else {
+          buffer[position++] = (byte) (0xe0 | c >> 12);
+          buffer[position++] = (byte) (0x80 | c >> 6 & 0x3f);
+          buffer[position++] = (byte) (0x80 | c & 0x3f);
+        }
+      }
+    }
+
+    private int put(int at, char b0, char b1, char b2, char b3) {
+      buffer[at] = (byte) b0;
+      buffer[at + 1] = (byte) b1;
+      buffer[at + 2] = (byte) b2;
+      buffer[at + 3] = (byte) b3;
+      return at + 4;
+    }
+
+    private void drain() throws IOException {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+
+    void flush() throws IOException {
+      drain();
+      out.flush();
+    }
+
+  }
+
+}
@@ -0,0 +1,670 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.common.StatsCounter32;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+import org.broadbandforum.metamodel.Values;
+
+/**
+ * A compact binary encoding of an entity tree, e.g. the last known
+ * {@code Device} of a CPE, driven by the generated object descriptors.
+ * <p>
+ * A snapshot starts with a header: the magic bytes "CWSN", the format version
+ * and the fingerprint of the {@link SnapshotSchema} it was written with,
+ * followed by the layout index of the encoded object. Every object is then
+ * written as
+ * <ul>
+ * <li>a presence bitmap over its parameters, by ordinal, followed by the
+ * values of the present parameters;</li>
+ * <li>a presence bitmap over its children, followed by each present child
+ * object or table.</li>
+ * </ul>
+ * Numbers are zigzag varints, counters and dateTimes varints, MAC addresses
+ * their 48 bits. Strings and the text of the other common data types go
+ * through a dictionary. It starts with the strings shared by all snapshots
+ * of the schema, the enumeration values of the data model, so values such as
+ * "Up" or "Error_Misconfigured" cost a byte or two. Other short strings are
+ * added while writing: the first occurrence is written in full, later
+ * occurrences as their dictionary index. An
+ * {@link InstanceTable} keeps its instance numbers; any other table
+ * collection is decoded as an {@code ArrayList}.
+ * <p>
+ * Snapshots written with an older schema are decoded by name into the current
+ * data model, see {@link SnapshotSchema}. Parameters and objects that no
+ * longer exist are dropped and values whose type changed are converted
+ * through their CWMP text.
+ * <p>
+ * Codecs are thread safe. Use {@link #of(Class)} to obtain the shared codec
+ * of an entity class.
+ *
+ * @param <T> the entity type
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class SnapshotCodec<T> {
+
+  public static final int FORMAT_VERSION = 1;
+
+  private static final byte[] MAGIC = {'C', 'W', 'S', 'N'};
+  /**
+   * The longest string added to the dictionary.
+   */
+  private static final int MAX_DICTIONARY_LENGTH = 64;
+  /**
+   * Table encodings: rows numbered by position, or by instance number.
+   */
+  private static final int POSITIONAL = 0;
+  private static final int NUMBERED = 1;
+
+  private static final Map<Class<?>, SnapshotCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+  private final ObjectDescriptor<T> descriptor;
+  private final SnapshotSchema schema;
+  private final int layout;
+  /**
+   * The decoding bindings of each known schema to the current model.
+   */
+  private final Map<Long, Binding> bindings = new ConcurrentHashMap<>();
+
+  private SnapshotCodec(ObjectDescriptor<T> descriptor) {
+    this.descriptor = descriptor;
+    this.schema = SnapshotSchema.of(descriptor.getMetamodel());
+    this.layout = schema.indexOf(descriptor.getPath());
+  }
+
+  /**
+   * @param <T>  the entity type
+   * @param type the entity class, e.g. {@code Device.class}
+   * @return the shared codec of the entity class
+   * @throws IllegalArgumentException if the class is not a CWMP object
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> SnapshotCodec<T> of(Class<T> type) {
+    SnapshotCodec<?> codec = CODECS.get(type);
+    if (codec == null) {
+      ObjectDescriptor<T> object = Metamodel.describe(type);
+      codec = CODECS.computeIfAbsent(type, t -> new SnapshotCodec<>(object));
+    }
+    return (SnapshotCodec<T>) codec;
+  }
+
+  /**
+   * @return the schema snapshots are written with
+   */
+  public SnapshotSchema getSchema() {
+    return schema;
+  }
+
+  /**
+   * @param object the entity tree
+   * @return the snapshot
+   */
+  public byte[] encode(T object) {
+    return write(object).toByteArray();
+  }
+
+  /**
+   * @param object the entity tree
+   * @param out    the output stream
+   * @throws IOException if the stream cannot be written
+   */
+  public void encode(T object, OutputStream out) throws IOException {
+    SnapshotOutput output = write(object);
+    out.write(output.buffer(), 0, output.size());
+  }
+
+  private SnapshotOutput write(T object) {
+    SnapshotOutput out = new SnapshotOutput(8192);
+    for (byte b : MAGIC) {
+      out.writeByte(b);
+    }
+    out.writeByte(FORMAT_VERSION);
+    out.writeLong(schema.getFingerprint());
+    out.writeVarInt(layout);
+    new Encoder(schema, out).object(layout, descriptor, object);
+    return out;
+  }
+
+  /**
+   * @param snapshot the snapshot
+   * @return the fingerprint of the schema the snapshot was written with
+   * @throws IllegalArgumentException if the data is not a snapshot
+   */
+  public static long schemaFingerprint(byte[] snapshot) {
+    SnapshotInput in = new SnapshotInput(snapshot, 0, snapshot.length);
+    readHeader(in);
+    return in.readLong();
+  }
+
+  private static void readHeader(SnapshotInput in) {
+    for (byte b : MAGIC) {
+      if (in.readByte() != b) {
+        throw new IllegalArgumentException("Not a CWMP snapshot");
+      }
+    }
+    int version = in.readByte();
+    if (version != FORMAT_VERSION) {
+      throw new IllegalArgumentException("Unsupported snapshot format version " + version);
+    }
+  }
+
+  /**
+   * @param snapshot the snapshot
+   * @return the entity tree
+   * @throws IllegalArgumentException if the data is not a valid snapshot of
+   *                                  this entity class, or was written with a
+   *                                  schema that is not registered
+   */
+  public T decode(byte[] snapshot) {
+    return decode(snapshot, snapshot.length);
+  }
+
+  /**
+   * @param in the input stream, read to its end
+   * @return the entity tree
+   * @throws IOException              if the stream cannot be read
+   * @throws IllegalArgumentException if the data is not a valid snapshot
+   */
+  public T decode(InputStream in) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+    byte[] chunk = new byte[8192];
+    for (int read = in.read(chunk); read >= 0; read = in.read(chunk)) {
+      buffer.write(chunk, 0, read);
+    }
+    return decode(buffer.toByteArray());
+  }
+
+  private T decode(byte[] snapshot, int length) {
+    SnapshotInput in = new SnapshotInput(snapshot, 0, length);
+    readHeader(in);
+    Binding binding = binding(in.readLong());
+    int root = in.readVarInt();
+    if (root >= binding.schema.size() || binding.targets[root] != descriptor) {
+      throw new IllegalArgumentException("Not a snapshot of " + descriptor.getPath());
+    }
+    try {
+      return descriptor.getType().cast(new Decoder(binding, in).object(root, descriptor));
+    } catch (IndexOutOfBoundsException | DateTimeException | ClassCastException ex) {
+      throw new IllegalArgumentException("Malformed snapshot", ex);
+    }
+  }
+
+  private Binding binding(long fingerprint) {
+    Binding binding = bindings.get(fingerprint);
+    if (binding == null) {
+      SnapshotSchema written = SnapshotSchema.lookup(fingerprint);
+      if (written == null) {
+        throw new IllegalArgumentException("Unknown snapshot schema " + Long.toHexString(fingerprint));
+      }
+      binding = bindings.computeIfAbsent(fingerprint, f -> new Binding(written, descriptor.getMetamodel()));
+    }
+    return binding;
+  }
+
+  /**
+   * Maps the layouts of a schema to the object, parameter and child
+   * descriptors of the current model, by path and name.
+   */
+  private static final class Binding {
+
+    final SnapshotSchema schema;
+    /**
+     * The current object of each layout, null if it no longer exists.
+     */
+    final ObjectDescriptor<?>[] targets;
+    /**
+     * The current parameter of each layout parameter, null if it no longer
+     * exists.
+     */
+    final ParameterDescriptor[][] parameters;
+    /**
+     * True if the type of the parameter changed and its value is converted
+     * through its CWMP text.
+     */
+    final boolean[][] converted;
+    final ChildDescriptor[][] children;
+
+    Binding(SnapshotSchema schema, Metamodel metamodel) {
+      this.schema = schema;
+      int size = schema.size();
+      this.targets = new ObjectDescriptor<?>[size];
+      this.parameters = new ParameterDescriptor[size][];
+      this.converted = new boolean[size][];
+      this.children = new ChildDescriptor[size][];
+      for (int i = 0; i < size; i++) {
+        targets[i] = metamodel.getObject(schema.getLayout(i).path);
+      }
+      for (int i = 0; i < size; i++) {
+        SnapshotSchema.Layout layout = schema.getLayout(i);
+        ObjectDescriptor<?> target = targets[i];
+        parameters[i] = new ParameterDescriptor[layout.parameters.length];
+        converted[i] = new boolean[layout.parameters.length];
+        children[i] = new ChildDescriptor[layout.children.length];
+        if (target == null) {
+          continue;
+        }
+        for (int j = 0; j < layout.parameters.length; j++) {
+          ParameterDescriptor parameter = target.getParameter(layout.parameters[j]);
+          parameters[i][j] = parameter;
+          converted[i][j] = parameter != null
+                            && (SnapshotSchema.kindOf(parameter.getType()) != layout.kinds[j]
+                                || parameter.isList() != layout.lists[j]);
+        }
+        for (int j = 0; j < layout.children.length; j++) {
+          ChildDescriptor child = target.getChild(layout.children[j]);
+          int childLayout = layout.childLayouts[j];
+          if (child != null && child.isTable() == layout.tables[j] && childLayout >= 0
+              && child.getObject() != null && child.getObject() == targets[childLayout]) {
+            children[i][j] = child;
+          }
+        }
+      }
+    }
+
+  }
+
+  /**
+   * Writes the objects of one snapshot.
+   */
+  private static final class Encoder {
+
+    private final SnapshotSchema schema;
+    private final SnapshotOutput out;
+    private final Map<String, Integer> dictionary = new HashMap<>(256);
+
+    Encoder(SnapshotSchema schema, SnapshotOutput out) {
+      this.schema = schema;
+      this.out = out;
+    }
+
+    void object(int index, ObjectDescriptor<?> object, Object entity) {
+      SnapshotSchema.Layout layout = schema.getLayout(index);
+      int count = layout.parameters.length;
+      int bitmap = out.reserve((count + 7) >>> 3);
+      for (int i = 0; i < count; i++) {
+        Object value = object.getValue(entity, i);
+        if (value != null && parameter(layout.kinds[i], layout.lists[i], value)) {
+          out.setBit(bitmap, i);
+        }
+      }
+      count = layout.children.length;
+      bitmap = out.reserve((count + 7) >>> 3);
+      for (int i = 0; i < count; i++) {
+        int childLayout = layout.childLayouts[i];
+        Object child = childLayout < 0 ? null : object.getObject(entity, i);
+        if (child == null) {
+          continue;
+        }
+        out.setBit(bitmap, i);
+        ObjectDescriptor<?> rows = object.getChildren().get(i).getObject();
+        if (layout.tables[i]) {
+          table(childLayout, rows, (Collection<?>) child);
+        } else {
+          object(childLayout, rows, child);
+        }
+      }
+    }
+
+    private void table(int index, ObjectDescriptor<?> rows, Collection<?> table) {
+      if (table instanceof InstanceTable) {
+        InstanceTable<?> instances = (InstanceTable<?>) table;
+        out.writeByte(NUMBERED);
+        out.writeVarInt(instances.size());
+        out.writeVarInt(instances.getNextInstanceNumber());
+        for (Object row : instances) {
+          out.writeVarInt(instances.instanceNumberOf(row));
+          object(index, rows, row);
+        }
+      } else {
+        out.writeByte(POSITIONAL);
+        out.writeVarInt(table.size());
+        for (Object row : table) {
+          object(index, rows, row);
+        }
+      }
+    }
+
+    /**
+     * @return false if nothing was written because the value is empty, e.g.
+     *         an IPAddress without a value
+     */
+    private boolean parameter(byte kind, boolean list, Object value) {
+      if (list) {
+        Collection<?> items = (Collection<?>) value;
+        out.writeVarInt(items.size());
+        for (Object item : items) {
+          value(kind, item);
+        }
+        return true;
+      }
+      if (kind == SnapshotSchema.TEXT) {
+        String text = Values.text(value);
+        if (text == null) {
+          return false;
+        }
+        string(text);
+        return true;
+      }
+      value(kind, value);
+      return true;
+    }
+
+    private void value(byte kind, Object value) {
+      switch (kind) {
+        case SnapshotSchema.STRING:
+          string((String) value);
+          break;
+        case SnapshotSchema.LONG:
+          out.writeZigZag((Long) value);
+          break;
+        case SnapshotSchema.INT:
+          out.writeZigZag((Integer) value);
+          break;
+        case SnapshotSchema.BOOLEAN:
+          out.writeByte((Boolean) value ? 1 : 0);
+          break;
+        case SnapshotSchema.DATETIME:
+          LocalDateTime dateTime = (LocalDateTime) value;
+          out.writeZigZag(dateTime.toEpochSecond(ZoneOffset.UTC));
+          out.writeVarInt(dateTime.getNano());
+          break;
+        case SnapshotSchema.COUNTER32: {
+          // Zero if the counter is null, otherwise the value plus one.
+          Long counter = ((StatsCounter32) value).getValue();
+          out.writeVarLong(counter == null ? 0 : counter + 1);
+          break;
+        }
+        case SnapshotSchema.COUNTER64: {
+          Long counter = ((StatsCounter64) value).getValue();
+          out.writeByte(counter == null ? 0 : 1);
+          if (counter != null) {
+            out.writeVarLong(counter);
+          }
+          break;
+        }
+        case SnapshotSchema.MAC:
+          mac((MACAddress) value);
+          break;
+        case SnapshotSchema.BYTES:
+          out.writeBytes((byte[]) value);
+          break;
+        default:
+          String text = Values.text(value);
+          string(text == null ? "" : text);
+      }
+    }
+
+    /**
+     * A marker byte, 1 for a lower case and 2 for an upper case address
+     * followed by the 48 address bits, 0 for any other text, including an
+     * address in mixed case, followed by the text, 3 for a null value.
+     */
+    private void mac(MACAddress value) {
+      if (value.isAddress() && !value.isMixedCase()) {
+        out.writeByte(value.isUpperCase() ? 2 : 1);
+        long address = value.longValue();
+        for (int shift = 40; shift >= 0; shift -= 8) {
+          out.writeByte((int) (address >>> shift));
+        }
+      } else {
+        String text = value.getValue();
+        out.writeByte(text == null ? 3 : 0);
+        if (text != null) {
+          string(text);
+        }
+      }
+    }
+
+    /**
+     * Write zero followed by a new string, or the dictionary index of a shared
+     * string or of a string written before plus one. The strings written
+     * before follow the shared strings.
+     */
+    private void string(String value) {
+      int shared = schema.dictionaryIndexOf(value);
+      if (shared >= 0) {
+        out.writeVarInt(shared + 1);
+        return;
+      }
+      Integer index = dictionary.get(value);
+      if (index != null) {
+        out.writeVarInt(schema.dictionarySize() + index + 1);
+        return;
+      }
+      out.writeVarInt(0);
+      out.writeString(value);
+      if (value.length() <= MAX_DICTIONARY_LENGTH) {
+        dictionary.put(value, dictionary.size());
+      }
+    }
+
+  }
+
+  /**
+   * Reads the objects of one snapshot.
+   */
+  private static final class Decoder {
+
+    private final Binding binding;
+    private final SnapshotSchema schema;
+    private final SnapshotInput in;
+    private final List<String> dictionary = new ArrayList<>(256);
+
+    Decoder(Binding binding, SnapshotInput in) {
+      this.binding = binding;
+      this.schema = binding.schema;
+      this.in = in;
+    }
+
+    /**
+     * @param target the current object descriptor of the layout, null to
+     *               read and drop the object
+     * @return the entity, null if the target is null
+     */
+    Object object(int index, ObjectDescriptor<?> target) {
+      SnapshotSchema.Layout layout = schema.getLayout(index);
+      Object entity = target == null ? null : target.newInstance();
+      ParameterDescriptor[] parameters = binding.parameters[index];
+      int count = layout.parameters.length;
+      int bitmap = in.skip((count + 7) >>> 3);
+      for (int i = 0; i < count; i++) {
+        if (in.bit(bitmap, i)) {
+          ParameterDescriptor parameter = entity == null ? null : parameters[i];
+          Object value = parameter(layout.kinds[i], layout.lists[i], parameter, binding.converted[index][i]);
+          if (parameter != null && value != null) {
+            target.setValue(entity, parameter.getOrdinal(), value);
+          }
+        }
+      }
+      ChildDescriptor[] children = binding.children[index];
+      count = layout.children.length;
+      bitmap = in.skip((count + 7) >>> 3);
+      for (int i = 0; i < count; i++) {
+        if (!in.bit(bitmap, i)) {
+          continue;
+        }
+        int childLayout = layout.childLayouts[i];
+        if (childLayout < 0) {
+          throw new IllegalArgumentException("Malformed snapshot");
+        }
+        ChildDescriptor child = entity == null ? null : children[i];
+        ObjectDescriptor<?> childTarget = child == null ? null : child.getObject();
+        Object value = layout.tables[i] ? table(childLayout, childTarget) : object(childLayout, childTarget);
+        if (child != null) {
+          target.setObject(entity, child.getOrdinal(), value);
+        }
+      }
+      return entity;
+    }
+
+    private Collection<Object> table(int index, ObjectDescriptor<?> target) {
+      int encoding = in.readByte();
+      int size = in.readVarInt();
+      if (encoding == NUMBERED) {
+        int nextInstanceNumber = in.readVarInt();
+        InstanceTable<Object> rows = target == null ? null : new InstanceTable<>();
+        for (int i = 0; i < size; i++) {
+          int instance = in.readVarInt();
+          Object row = object(index, target);
+          if (rows != null) {
+            rows.put(instance, row);
+          }
+        }
+        if (rows != null) {
+          rows.setNextInstanceNumber(nextInstanceNumber);
+        }
+        return rows;
+      }
+      if (encoding != POSITIONAL) {
+        throw new IllegalArgumentException("Malformed snapshot");
+      }
+      List<Object> rows = target == null ? null : new ArrayList<>(Math.min(size, 1024));
+      for (int i = 0; i < size; i++) {
+        Object row = object(index, target);
+        if (rows != null) {
+          rows.add(row);
+        }
+      }
+      return rows;
+    }
+
+    /**
+     * @param parameter the current parameter, null to read and drop the value
+     * @param converted true if the parameter type changed
+     * @return the value, null if dropped or not valid for the current type
+     */
+    private Object parameter(byte kind, boolean list, ParameterDescriptor parameter, boolean converted) {
+      Class<?> type = parameter == null || converted ? null : parameter.getType();
+      Object value;
+      if (list) {
+        int size = in.readVarInt();
+        List<Object> items = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+          items.add(value(kind, type));
+        }
+        value = items;
+      } else {
+        value = value(kind, type);
+      }
+      if (parameter == null || !converted || value == null) {
+        return parameter == null ? null : value;
+      }
+      try {
+        String text = Values.text(value);
+        return parameter.isList()
+               ? Values.parseList(text, parameter.getType())
+               : Values.parse(text, parameter.getType());
+      } catch (IllegalArgumentException ex) {
+        return null;
+      }
+    }
+
+    /**
+     * @param type the field type of a text value, null to keep it as a String
+     */
+    private Object value(byte kind, Class<?> type) {
+      switch (kind) {
+        case SnapshotSchema.STRING:
+          return string();
+        case SnapshotSchema.LONG:
+          return in.readZigZag();
+        case SnapshotSchema.INT:
+          return (int) in.readZigZag();
+        case SnapshotSchema.BOOLEAN:
+          return in.readByte() != 0;
+        case SnapshotSchema.DATETIME:
+          long seconds = in.readZigZag();
+          return LocalDateTime.ofEpochSecond(seconds, in.readVarInt(), ZoneOffset.UTC);
+        case SnapshotSchema.COUNTER32: {
+          long counter = in.readVarLong();
+          return counter == 0 ? new StatsCounter32() : StatsCounter32.valueOf(counter - 1);
+        }
+        case SnapshotSchema.COUNTER64:
+          return in.readByte() == 0 ? new StatsCounter64() : StatsCounter64.valueOf(in.readVarLong());
+        case SnapshotSchema.MAC:
+          return mac();
+        case SnapshotSchema.BYTES:
+          return in.readBytes();
+        case SnapshotSchema.TEXT: {
+          String text = string();
+          if (type == null) {
+            return text;
+          }
+          try {
+            return Values.parse(text, type);
+          } catch (IllegalArgumentException ex) {
+            return null;
+          }
+        }
+        default:
+          throw new IllegalArgumentException("Unknown snapshot value kind " + kind);
+      }
+    }
+
+    private MACAddress mac() {
+      int marker = in.readByte();
+      if (marker == 1 || marker == 2) {
+        long address = 0;
+        for (int i = 0; i < 6; i++) {
+          address = address << 8 | in.readByte();
+        }
+        return MACAddress.valueOf(address, marker == 2);
+      }
+      return marker == 3 ? new MACAddress() : MACAddress.of(string());
+    }
+
+    private String string() {
+      int code = in.readVarInt();
+      if (code > 0) {
+        int shared = schema.dictionarySize();
+        if (code <= shared) {
+          return schema.dictionaryValue(code - 1);
+        }
+        if (code - shared > dictionary.size()) {
+          throw new IllegalArgumentException("Malformed snapshot");
+        }
+        return dictionary.get(code - shared - 1);
+      }
+      String value = in.readString();
+      if (value.length() <= MAX_DICTIONARY_LENGTH) {
+        dictionary.add(value);
+      }
+      return value;
+    }
+
+  }
+
+}
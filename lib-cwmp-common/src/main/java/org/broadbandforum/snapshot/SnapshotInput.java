@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.snapshot;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the primitive encodings written by {@link SnapshotOutput} from a byte
+ * array.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+final class SnapshotInput {
+
+  private final byte[] buffer;
+  private final int limit;
+  private int position;
+
+  SnapshotInput(byte[] buffer, int offset, int length) {
+    this.buffer = buffer;
+    this.position = offset;
+    this.limit = offset + length;
+  }
+
+  int position() {
+    return position;
+  }
+
+  private void require(int length) {
+    if (length < 0 || length > limit - position) {
+      throw new IllegalArgumentException("Truncated snapshot");
+    }
+  }
+
+  int readByte() {
+    require(1);
+    return buffer[position++] & 0xff;
+  }
+
+  /**
+   * Skip a bitmap of the given length.
+   *
+   * @return the offset of the bitmap
+   */
+  int skip(int length) {
+    require(length);
+    int offset = position;
+    position += length;
+    return offset;
+  }
+
+  /**
+   * @return true if bit {@code index} of the bitmap at the given offset is set
+   */
+  boolean bit(int offset, int index) {
+    return (buffer[offset + (index >>> 3)] & 1 << (index & 7)) != 0;
+  }
+
+  long readVarLong() {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      require(1);
+      byte b = buffer[position++];
+      value |= (long) (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  int readVarInt() {
+    long value = readVarLong();
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Malformed varint");
+    }
+    return (int) value;
+  }
+
+  long readZigZag() {
+    long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  long readLong() {
+    require(8);
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = value << 8 | (buffer[position++] & 0xff);
+    }
+    return value;
+  }
+
+  byte[] readBytes() {
+    int length = readVarInt();
+    require(length);
+    byte[] bytes = new byte[length];
+    System.arraycopy(buffer, position, bytes, 0, length);
+    position += length;
+    return bytes;
+  }
+
+  String readString() {
+    int length = readVarInt();
+    require(length);
+    String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+    position += length;
+    return value;
+  }
+
+}
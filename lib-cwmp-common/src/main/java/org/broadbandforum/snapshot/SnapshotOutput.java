@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer writing the primitive encodings of the snapshot
+ * format: unsigned and zigzag varints, fixed-width longs and UTF-8 strings.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+final class SnapshotOutput {
+
+  private byte[] buffer;
+  private int size;
+
+  SnapshotOutput(int capacity) {
+    this.buffer = new byte[Math.max(capacity, 16)];
+  }
+
+  int size() {
+    return size;
+  }
+
+  byte[] buffer() {
+    return buffer;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, size);
+  }
+
+  private void ensure(int extra) {
+    if (size + extra > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + extra));
+    }
+  }
+
+  void writeByte(int value) {
+    ensure(1);
+    buffer[size++] = (byte) value;
+  }
+
+  /**
+   * Reserve zeroed bytes, e.g. for a presence bitmap filled in later.
+   *
+   * @return the offset of the first reserved byte
+   */
+  int reserve(int length) {
+    ensure(length);
+    int offset = size;
+    Arrays.fill(buffer, offset, offset + length, (byte) 0);
+    size += length;
+    return offset;
+  }
+
+  /**
+   * Set bit {@code index} of the bitmap at the given offset.
+   */
+  void setBit(int offset, int index) {
+    buffer[offset + (index >>> 3)] |= 1 << (index & 7);
+  }
+
+  /**
+   * Write a value as an unsigned LEB128 varint of one to ten bytes.
+   */
+  void writeVarLong(long value) {
+    ensure(10);
+    while ((value & ~0x7fL) != 0) {
+      buffer[size++] = (byte) ((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    buffer[size++] = (byte) value;
+  }
+
+  void writeVarInt(int value) {
+    writeVarLong(value & 0xffffffffL);
+  }
+
+  /**
+   * Write a signed value as a zigzag varint, so that small negative values
+   * are short too.
+   */
+  void writeZigZag(long value) {
+    writeVarLong((value << 1) ^ (value >> 63));
+  }
+
+  void writeLong(long value) {
+    ensure(8);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[size++] = (byte) (value >>> shift);
+    }
+  }
+
+  void writeBytes(byte[] bytes) {
+    writeVarInt(bytes.length);
+    ensure(bytes.length);
+    System.arraycopy(bytes, 0, buffer, size, bytes.length);
+    size += bytes.length;
+  }
+
+  /**
+   * Write the UTF-8 byte length and the UTF-8 bytes of a string. A lone
+   * surrogate is written as '?'.
+   */
+  void writeString(String value) {
+    int length = value.length();
+    int bytes = length;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        continue;
+      }
+      if (c < 0x800) {
+        bytes += 1;
+      } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        bytes += 2;
+        i++;
+      } else if (!Character.isSurrogate(c)) {
+        bytes += 2;
+      }
+    }
+    writeVarInt(bytes);
+    ensure(bytes);
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buffer[size++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[size++] = (byte) (0xc0 | c >> 6);
+        buffer[size++] = (byte) (0x80 | c & 0x3f);
+      } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int code = Character.toCodePoint(c, value.charAt(++i));
+        buffer[size++] = (byte) (0xf0 | code >> 18);
+        buffer[size++] = (byte) (0x80 | code >> 12 & 0x3f);
+        buffer[size++] = (byte) (0x80 | code >> 6 & 0x3f);
+        buffer[size++] = (byte) (0x80 | code & 0x3f);
+      } else if (Character.isSurrogate(c)) {
+        buffer[size++] = '?';
+      } else {
+        buffer[size++] = (byte) (0xe0 | c >> 12);
+        buffer[size++] = (byte) (0x80 | c >> 6 & 0x3f);
+        buffer[size++] = (byte) (0x80 | c & 0x3f);
+      }
+    }
+  }
+
+}
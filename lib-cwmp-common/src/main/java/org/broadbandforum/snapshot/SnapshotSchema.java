@@ -0,0 +1,363 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.common.StatsCounter32;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.metamodel.ChildDescriptor;
+import org.broadbandforum.metamodel.Metamodel;
+import org.broadbandforum.metamodel.ObjectDescriptor;
+import org.broadbandforum.metamodel.ParameterDescriptor;
+
+/**
+ * The layout of the snapshots of a data model: for every object, by path
+ * template, the names and wire kinds of its parameters and the names of its
+ * children, all in ordinal order. The schema also holds the string
+ * dictionary shared by all its snapshots, the
+ * {@link Metamodel#getEnumerationValues() enumeration values} of the data
+ * model.
+ * <p>
+ * Snapshots address parameters and children by ordinal only and carry the
+ * {@link #getFingerprint() fingerprint} of the schema they were written with.
+ * A snapshot written by an older version of the data model, e.g. TR-181 2.10,
+ * is read by matching the objects, parameters and children of its schema to
+ * the current model by name. Store the schema of every model version that
+ * wrote snapshots with {@link #write(OutputStream)} and {@link #register}
+ * it after an upgrade.
+ * <p>
+ * The schema of a metamodel is registered on first use by
+ * {@link #of(Metamodel)}.
+ *
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public final class SnapshotSchema {
+
+  /**
+   * Wire kinds. Anything not listed is written as its CWMP text.
+   */
+  static final byte STRING = 0;
+  static final byte LONG = 1;
+  static final byte INT = 2;
+  static final byte BOOLEAN = 3;
+  static final byte DATETIME = 4;
+  static final byte COUNTER32 = 5;
+  static final byte COUNTER64 = 6;
+  static final byte MAC = 7;
+  static final byte BYTES = 8;
+  static final byte TEXT = 9;
+  /**
+   * Set on the kind of a list parameter.
+   */
+  private static final int LIST = 0x80;
+
+  private static final Map<Long, SnapshotSchema> REGISTRY = new ConcurrentHashMap<>();
+  private static final Map<Metamodel, SnapshotSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+  private final Layout[] layouts;
+  private final Map<String, Integer> paths;
+  private final String[] dictionary;
+  private final Map<String, Integer> dictionaryIndexes;
+  private final byte[] encoded;
+  private final long fingerprint;
+
+  private SnapshotSchema(Layout[] layouts, String[] dictionary, byte[] encoded) {
+    this.layouts = layouts;
+    this.dictionary = dictionary;
+    this.encoded = encoded;
+    this.paths = new HashMap<>(layouts.length * 2);
+    for (int i = 0; i < layouts.length; i++) {
+      paths.put(layouts[i].path, i);
+    }
+    this.dictionaryIndexes = new HashMap<>(dictionary.length * 2);
+    for (int i = 0; i < dictionary.length; i++) {
+      dictionaryIndexes.putIfAbsent(dictionary[i], i);
+    }
+    this.fingerprint = fingerprint(encoded);
+  }
+
+  /**
+   * @param metamodel the data model
+   * @return the schema of the current version of the data model
+   */
+  public static SnapshotSchema of(Metamodel metamodel) {
+    return SCHEMAS.computeIfAbsent(metamodel, m -> register(build(m)));
+  }
+
+  /**
+   * Make a schema available to decode the snapshots written with it.
+   *
+   * @param schema the schema, e.g. read from storage
+   * @return the registered schema, which may be an equal instance registered
+   *         before
+   */
+  public static SnapshotSchema register(SnapshotSchema schema) {
+    SnapshotSchema existing = REGISTRY.putIfAbsent(schema.fingerprint, schema);
+    return existing == null ? schema : existing;
+  }
+
+  /**
+   * @param fingerprint the schema fingerprint
+   * @return the registered schema, null if none
+   */
+  static SnapshotSchema lookup(long fingerprint) {
+    return REGISTRY.get(fingerprint);
+  }
+
+  private static SnapshotSchema build(Metamodel metamodel) {
+    List<ObjectDescriptor<?>> objects = metamodel.getObjects();
+    Map<ObjectDescriptor<?>, Integer> indexes = new HashMap<>(objects.size() * 2);
+    for (int i = 0; i < objects.size(); i++) {
+      indexes.put(objects.get(i), i);
+    }
+    Layout[] layouts = new Layout[objects.size()];
+    for (int i = 0; i < layouts.length; i++) {
+      ObjectDescriptor<?> object = objects.get(i);
+      List<ParameterDescriptor> parameters = object.getParameters();
+      List<ChildDescriptor> children = object.getChildren();
+      Layout layout = new Layout(object.getPath(), parameters.size(), children.size());
+      for (ParameterDescriptor parameter : parameters) {
+        layout.parameters[parameter.getOrdinal()] = parameter.getName();
+        layout.kinds[parameter.getOrdinal()] = kindOf(parameter.getType());
+        layout.lists[parameter.getOrdinal()] = parameter.isList();
+      }
+      for (ChildDescriptor child : children) {
+        Integer index = child.getObject() == null ? null : indexes.get(child.getObject());
+        layout.children[child.getOrdinal()] = child.getName();
+        layout.tables[child.getOrdinal()] = child.isTable();
+        layout.childLayouts[child.getOrdinal()] = index == null ? -1 : index;
+      }
+      layouts[i] = layout;
+    }
+    String[] dictionary = metamodel.getEnumerationValues().toArray(new String[0]);
+    SnapshotOutput out = new SnapshotOutput(1 << 16);
+    out.writeVarInt(layouts.length);
+    for (Layout layout : layouts) {
+      out.writeString(layout.path);
+      out.writeVarInt(layout.parameters.length);
+      for (int i = 0; i < layout.parameters.length; i++) {
+        out.writeString(layout.parameters[i]);
+        out.writeByte(layout.kinds[i] | (layout.lists[i] ? LIST : 0));
+      }
+      out.writeVarInt(layout.children.length);
+      for (int i = 0; i < layout.children.length; i++) {
+        out.writeString(layout.children[i]);
+        out.writeByte(layout.tables[i] ? 1 : 0);
+        out.writeZigZag(layout.childLayouts[i]);
+      }
+    }
+    out.writeVarInt(dictionary.length);
+    for (String value : dictionary) {
+      out.writeString(value);
+    }
+    return new SnapshotSchema(layouts, dictionary, out.toByteArray());
+  }
+
+  /**
+   * Read a schema written by {@link #write(OutputStream)}.
+   *
+   * @param in the input stream
+   * @return the schema, not yet registered
+   * @throws IOException              if the stream cannot be read
+   * @throws IllegalArgumentException if the stream is not a valid schema
+   */
+  public static SnapshotSchema read(InputStream in) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 16);
+    byte[] chunk = new byte[8192];
+    for (int read = in.read(chunk); read >= 0; read = in.read(chunk)) {
+      buffer.write(chunk, 0, read);
+    }
+    byte[] encoded = buffer.toByteArray();
+    SnapshotInput input = new SnapshotInput(encoded, 0, encoded.length);
+    Layout[] layouts = new Layout[input.readVarInt()];
+    for (int i = 0; i < layouts.length; i++) {
+      String path = input.readString();
+      int parameterCount = input.readVarInt();
+      String[] names = new String[parameterCount];
+      byte[] kinds = new byte[parameterCount];
+      boolean[] lists = new boolean[parameterCount];
+      for (int j = 0; j < parameterCount; j++) {
+        names[j] = input.readString();
+        int kind = input.readByte();
+        kinds[j] = (byte) (kind & ~LIST);
+        lists[j] = (kind & LIST) != 0;
+      }
+      Layout layout = new Layout(path, names, kinds, lists, input.readVarInt());
+      for (int j = 0; j < layout.children.length; j++) {
+        layout.children[j] = input.readString();
+        layout.tables[j] = input.readByte() != 0;
+        long index = input.readZigZag();
+        if (index < -1 || index >= layouts.length) {
+          throw new IllegalArgumentException("Invalid snapshot schema");
+        }
+        layout.childLayouts[j] = (int) index;
+      }
+      layouts[i] = layout;
+    }
+    String[] dictionary = new String[input.readVarInt()];
+    for (int i = 0; i < dictionary.length; i++) {
+      dictionary[i] = input.readString();
+    }
+    return new SnapshotSchema(layouts, dictionary, encoded);
+  }
+
+  /**
+   * Write this schema, e.g. to store it alongside the snapshots written with
+   * it.
+   *
+   * @param out the output stream
+   * @throws IOException if the stream cannot be written
+   */
+  public void write(OutputStream out) throws IOException {
+    out.write(encoded);
+  }
+
+  /**
+   * @return a 64-bit FNV-1a hash of the encoded schema, recorded in every
+   *         snapshot
+   */
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  private static long fingerprint(byte[] encoded) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : encoded) {
+      hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  /**
+   * @return the number of object layouts
+   */
+  int size() {
+    return layouts.length;
+  }
+
+  Layout getLayout(int index) {
+    return layouts[index];
+  }
+
+  /**
+   * @return the number of strings in the shared dictionary
+   */
+  int dictionarySize() {
+    return dictionary.length;
+  }
+
+  /**
+   * @param index the dictionary index
+   * @return the string
+   */
+  String dictionaryValue(int index) {
+    return dictionary[index];
+  }
+
+  /**
+   * @param value a string
+   * @return the index of the string in the shared dictionary, -1 if it is not
+   *         part of it
+   */
+  int dictionaryIndexOf(String value) {
+    Integer index = dictionaryIndexes.get(value);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * @param path the object path template
+   * @return the layout index, -1 if the object is not part of this schema
+   */
+  int indexOf(String path) {
+    Integer index = paths.get(path);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * @param type the parameter field type
+   * @return the wire kind
+   */
+  static byte kindOf(Class<?> type) {
+    if (type == String.class) {
+      return STRING;
+    } else if (type == Long.class) {
+      return LONG;
+    } else if (type == Integer.class) {
+      return INT;
+    } else if (type == Boolean.class) {
+      return BOOLEAN;
+    } else if (type == LocalDateTime.class) {
+      return DATETIME;
+    } else if (type == StatsCounter32.class) {
+      return COUNTER32;
+    } else if (type == StatsCounter64.class) {
+      return COUNTER64;
+    } else if (type == MACAddress.class) {
+      return MAC;
+    } else if (type == byte[].class) {
+      return BYTES;
+    }
+    return TEXT;
+  }
+
+  @Override
+  public String toString() {
+    return "SnapshotSchema " + Long.toHexString(fingerprint) + " (" + layouts.length + " objects)";
+  }
+
+  /**
+   * The layout of one object, by ordinal.
+   */
+  static final class Layout {
+
+    final String path;
+    final String[] parameters;
+    final byte[] kinds;
+    final boolean[] lists;
+    final String[] children;
+    final boolean[] tables;
+    /**
+     * The layout index of each child object, -1 if unknown.
+     */
+    final int[] childLayouts;
+
+    Layout(String path, int parameterCount, int childCount) {
+      this(path, new String[parameterCount], new byte[parameterCount], new boolean[parameterCount], childCount);
+    }
+
+    Layout(String path, String[] parameters, byte[] kinds, boolean[] lists, int childCount) {
+      this.path = path;
+      this.parameters = parameters;
+      this.kinds = kinds;
+      this.lists = lists;
+      this.children = new String[childCount];
+      this.tables = new boolean[childCount];
+      this.childLayouts = new int[childCount];
+    }
+
+  }
+
+}
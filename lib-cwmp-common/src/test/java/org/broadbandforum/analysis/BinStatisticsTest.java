@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.analysis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class BinStatisticsTest {
+
+  @Test
+  public void testStatistics() {
+    BinStatistics statistics = new BinStatistics(3, 10);
+    statistics.add(new int[]{1, 2, 3});
+    statistics.add(new int[]{3, 2, 1});
+    statistics.add(new int[]{2, 2, 2});
+    statistics.add(new int[]{4});
+    assertEquals(4, statistics.getArrays());
+    assertEquals(4, statistics.getCount(0));
+    assertEquals(3, statistics.getCount(2));
+    assertEquals(1, statistics.getMin(0));
+    assertEquals(4, statistics.getMax(0));
+    assertEquals(2.5, statistics.getMean(0), 0);
+    assertEquals(2.0, statistics.getMean(1), 0);
+  }
+
+  @Test
+  public void testPercentiles() {
+    BinStatistics statistics = new BinStatistics(1, 100);
+    for (int value = 100; value >= 1; value--) {
+      statistics.add(new int[]{value});
+    }
+    assertEquals(1, statistics.getPercentile(0, 0));
+    assertEquals(1, statistics.getPercentile(0, 1));
+    assertEquals(5, statistics.getPercentile(0, 5));
+    assertEquals(50, statistics.getPercentile(0, 50));
+    assertEquals(51, statistics.getPercentile(0, 50.5));
+    assertEquals(95, statistics.getPercentile(0, 95));
+    assertEquals(100, statistics.getPercentile(0, 100));
+  }
+
+  @Test
+  public void testPercentilesOfFewValues() {
+    BinStatistics statistics = new BinStatistics(1, 10);
+    statistics.add(new int[]{7});
+    statistics.add(new int[]{3});
+    statistics.add(new int[]{3});
+    assertEquals(3, statistics.getPercentile(0, 0));
+    assertEquals(3, statistics.getPercentile(0, 66));
+    assertEquals(7, statistics.getPercentile(0, 67));
+    assertEquals(7, statistics.getPercentile(0, 100));
+  }
+
+  @Test
+  public void testOutOfRangeValues() {
+    BinStatistics statistics = new BinStatistics(1, 10);
+    statistics.add(new int[]{-5});
+    statistics.add(new int[]{20});
+    assertEquals(-5, statistics.getMin(0));
+    assertEquals(20, statistics.getMax(0));
+    assertEquals(7.5, statistics.getMean(0), 0);
+    assertEquals(0, statistics.getPercentile(0, 50));
+    assertEquals(10, statistics.getPercentile(0, 100));
+  }
+
+  @Test
+  public void testEmptyBin() {
+    BinStatistics statistics = new BinStatistics(2, 10);
+    statistics.add(new int[]{1});
+    assertEquals(0, statistics.getCount(1));
+    assertEquals(Integer.MAX_VALUE, statistics.getMin(1));
+    assertEquals(Integer.MIN_VALUE, statistics.getMax(1));
+    assertTrue(Double.isNaN(statistics.getMean(1)));
+    assertEquals(-1, statistics.getPercentile(1, 50));
+  }
+
+  @Test
+  public void testAddText() {
+    BinStatistics statistics = new BinStatistics(3, 10);
+    statistics.add("4,5,6,7");
+    statistics.add(new StringBuilder("1, ,2"));
+    assertEquals(2, statistics.getCount(0));
+    assertEquals(2, statistics.getCount(1));
+    assertEquals(1, statistics.getCount(2));
+    assertEquals(6, statistics.getMax(2));
+    statistics.add(new short[]{9, 9, 9, 9}, 4);
+    assertEquals(9, statistics.getMax(2));
+  }
+
+  @Test
+  public void testAddAll() {
+    BinStatistics all = new BinStatistics(2, 50);
+    BinStatistics even = new BinStatistics(2, 50);
+    BinStatistics odd = new BinStatistics(2, 50);
+    for (int i = 0; i < 40; i++) {
+      int[] values = {i, 40 - i};
+      all.add(values);
+      (i % 2 == 0 ? even : odd).add(values);
+    }
+    even.addAll(odd);
+    assertEquals(all.getArrays(), even.getArrays());
+    for (int bin = 0; bin < 2; bin++) {
+      assertEquals(all.getMin(bin), even.getMin(bin));
+      assertEquals(all.getMax(bin), even.getMax(bin));
+      assertEquals(all.getMean(bin), even.getMean(bin), 0);
+      for (int percentile = 0; percentile <= 100; percentile += 5) {
+        assertEquals(all.getPercentile(bin, percentile), even.getPercentile(bin, percentile));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddAllOfOtherShape() {
+    new BinStatistics(2, 50).addAll(new BinStatistics(2, 51));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPercentile() {
+    new BinStatistics(1, 10).getPercentile(0, 100.5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidShape() {
+    new BinStatistics(65536, 65536);
+  }
+
+}
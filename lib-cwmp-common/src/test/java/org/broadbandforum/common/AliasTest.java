@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.broadbandforum.metamodel.Values;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class AliasTest {
+
+  @Test
+  public void testValueOfSharesTextOnly() {
+    Alias first = Alias.valueOf(new String("cpe-wan-1"));
+    Alias second = Alias.valueOf(new String("cpe-wan-1"));
+    assertNotSame(first, second);
+    assertSame(first.getValue(), second.getValue());
+    assertEquals(first, second);
+    assertNull(Alias.valueOf(null));
+  }
+
+  @Test
+  public void testModifyingDoesNotLeak() {
+    Alias first = Alias.valueOf("cpe-lan-1");
+    Alias second = Alias.valueOf("cpe-lan-1");
+    first.value = "cpe-lan-2";
+    assertEquals("cpe-lan-1", second.getValue());
+    assertEquals("cpe-lan-1", Alias.valueOf("cpe-lan-1").getValue());
+    Alias copy = (Alias) Values.copy(second);
+    assertNotSame(second, copy);
+    second.setValue("cpe-lan-3");
+    assertEquals("cpe-lan-1", copy.getValue());
+  }
+
+}
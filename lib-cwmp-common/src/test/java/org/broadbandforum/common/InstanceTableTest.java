@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class InstanceTableTest {
+
+  @Test
+  public void testPlainRowsHaveNoUniqueIndexes() {
+    InstanceTable<StringBuilder> table = new InstanceTable<>();
+    StringBuilder row = new StringBuilder("a");
+    assertTrue(table.add(row));
+    assertTrue(table.add(new StringBuilder("a")));
+    assertEquals(0, table.getViolationCount());
+    assertNull(table.findConflict(row));
+    assertTrue(table.reindex(row));
+    assertEquals(2, table.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlainRowsByUnique() {
+    InstanceTable<String> table = new InstanceTable<>();
+    table.add("a");
+    table.byUnique("Alias", "a");
+  }
+
+}
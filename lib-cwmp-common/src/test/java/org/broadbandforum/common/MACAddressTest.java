@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import javax.xml.bind.JAXB;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class MACAddressTest {
+
+  @Test
+  public void testCaseIsKept() {
+    assertEquals("00:1a:2b:3c:4d:5e", MACAddress.of("00:1a:2b:3c:4d:5e").getValue());
+    assertEquals("00:1A:2B:3C:4D:5E", MACAddress.of("00:1A:2B:3C:4D:5E").getValue());
+    MACAddress mixed = MACAddress.of("00:1a:2B:3c:4D:5e");
+    assertEquals("00:1a:2B:3c:4D:5e", mixed.getValue());
+    assertTrue(mixed.isAddress());
+    assertTrue(mixed.isMixedCase());
+    assertTrue(mixed.isValid());
+    assertEquals(0x001a2b3c4d5eL, mixed.longValue());
+    assertEquals(MACAddress.of("00:1a:2b:3c:4d:5e"), mixed);
+  }
+
+  @Test
+  public void testSetValueClearsText() {
+    MACAddress address = MACAddress.of("00:1a:2B:3c:4D:5e");
+    address.setValue("00:1a:2b:3c:4d:5e");
+    assertFalse(address.isMixedCase());
+    assertEquals("00:1a:2b:3c:4d:5e", address.getValue());
+    address.setValue(null);
+    assertNull(address.getValue());
+    assertFalse(address.isAddress());
+  }
+
+  @Test
+  public void testInvalidText() {
+    MACAddress address = MACAddress.of("00:1a:2b:3c:4d");
+    assertFalse(address.isAddress());
+    assertFalse(address.isValid());
+    assertEquals("00:1a:2b:3c:4d", address.getValue());
+    assertTrue(MACAddress.of("").isValid());
+  }
+
+  @Test
+  public void testXmlIsUnchanged() {
+    for (String text : new String[]{"00:1a:2b:3c:4d:5e", "00:1A:2B:3C:4D:5E", "00:1a:2B:3c:4D:5e"}) {
+      StringWriter xml = new StringWriter();
+      JAXB.marshal(MACAddress.of(text), xml);
+      assertTrue(xml.toString(), xml.toString().contains(">" + text + "<"));
+      assertEquals(text, JAXB.unmarshal(new StringReader(xml.toString()), MACAddress.class).getValue());
+    }
+  }
+
+}
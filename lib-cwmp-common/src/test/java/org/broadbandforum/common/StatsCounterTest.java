@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.common;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import javax.xml.bind.JAXB;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class StatsCounterTest {
+
+  @Test
+  public void testStatsCounter32Accessors() {
+    StatsCounter32 counter = new StatsCounter32();
+    assertNull(counter.getValue());
+    assertFalse(counter.isAvailable());
+    counter.setValue(42L);
+    assertEquals(Long.valueOf(42), counter.getValue());
+    assertEquals(42, counter.longValue());
+    assertEquals(Long.valueOf(StatsCounter32.MAX_VALUE), counter.withValue(StatsCounter32.MAX_VALUE).getValue());
+    assertFalse(counter.isAvailable());
+    counter.setValue(null);
+    assertNull(counter.getValue());
+  }
+
+  @Test
+  public void testStatsCounter64Accessors() {
+    StatsCounter64 counter = new StatsCounter64();
+    assertNull(counter.getValue());
+    counter.setValue(1L << 40);
+    assertEquals(Long.valueOf(1L << 40), counter.getValue());
+    assertTrue(counter.isAvailable());
+    counter.setValue(null);
+    assertNull(counter.getValue());
+  }
+
+  @Test
+  public void testXml() {
+    StringWriter xml = new StringWriter();
+    JAXB.marshal(StatsCounter32.valueOf(4294967294L), xml);
+    assertTrue(xml.toString(), xml.toString().contains(">4294967294<"));
+    assertEquals(Long.valueOf(4294967294L), JAXB.unmarshal(new StringReader(xml.toString()), StatsCounter32.class).getValue());
+    xml = new StringWriter();
+    JAXB.marshal(StatsCounter64.valueOf(-1), xml);
+    assertTrue(xml.toString(), xml.toString().contains(">18446744073709551615<"));
+    assertEquals(-1, JAXB.unmarshal(new StringReader(xml.toString()), StatsCounter64.class).longValue());
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class InstancePathTest {
+
+  @Test
+  public void testParseInstanceNumbers() {
+    InstancePath path = InstancePath.parse("Device.WiFi.Radio.12.Stats.BytesSent");
+    assertEquals("Device.WiFi.Radio.{i}.Stats.BytesSent", path.getTemplate());
+    assertArrayEquals(new int[]{12}, path.getInstances());
+    assertNull(path.getAliases());
+  }
+
+  @Test
+  public void testParseAlias() {
+    InstancePath path = InstancePath.parse("Device.IP.Interface.[wan.1].Enable");
+    assertEquals("Device.IP.Interface.{i}.Enable", path.getTemplate());
+    assertEquals("wan.1", path.getAliases()[0]);
+  }
+
+  @Test
+  public void testParsePartialPath() {
+    assertEquals("Device.Hosts.Host.{i}.", InstancePath.parse("Device.Hosts.Host.3.").getTemplate());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectPlaceholder() {
+    InstancePath.parse("Device.Hosts.Host.{i}.Alias");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectBrace() {
+    InstancePath.parse("Device.Hosts.Host}.");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectEmptySegment() {
+    InstancePath.parse("Device..Hosts.");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectLeadingDot() {
+    InstancePath.parse(".Device.");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectOutOfRange() {
+    InstancePath.parse("Device.Hosts.Host.4294967296.");
+  }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class MetamodelTest {
+
+  @Test
+  public void testFindMiss() {
+    assertNull(Metamodel.find(StringBuilder.class));
+    assertNull(Metamodel.find(StringBuilder.class));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDescribeMiss() {
+    Metamodel.describe(StringBuilder.class);
+  }
+
+}
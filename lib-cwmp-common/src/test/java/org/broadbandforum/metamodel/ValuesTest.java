@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class ValuesTest {
+
+  @Test
+  public void testParseInts() {
+    int[] values = new int[4];
+    assertEquals(3, Values.parseInts(" 1, -2 ,+3", values));
+    assertArrayEquals(new int[]{1, -2, 3, 0}, values);
+    assertEquals(0, Values.parseInts("", values));
+    assertEquals(0, Values.parseInts(" , ,", values));
+    assertEquals(2, Values.parseInts(",7,,8,", values));
+    assertEquals(7, values[0]);
+    assertEquals(8, values[1]);
+    assertEquals(2, Values.parseInts("2147483647,-2147483648", values));
+    assertEquals(Integer.MAX_VALUE, values[0]);
+    assertEquals(Integer.MIN_VALUE, values[1]);
+  }
+
+  @Test
+  public void testParseIntsBeyondArray() {
+    int[] values = new int[2];
+    assertEquals(5, Values.parseInts("1,2,3,4,5", values));
+    assertArrayEquals(new int[]{1, 2}, values);
+  }
+
+  @Test
+  public void testParseIntsInvalid() {
+    for (String text : new String[]{"a", "1,a", "1 2", "1a", "-", "+", "--1", "1.5",
+                                    "2147483648", "-2147483649", "99999999999999999999"}) {
+      try {
+        Values.parseInts(text, new int[4]);
+        fail(text);
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  @Test
+  public void testParseIntArray() {
+    assertArrayEquals(new int[]{1, 2, 3}, Values.parseIntArray("1,2,,3,"));
+    assertArrayEquals(new int[0], Values.parseIntArray(""));
+    assertArrayEquals(new int[]{-40}, Values.parseIntArray(" -40 "));
+    assertArrayEquals(new short[]{Short.MAX_VALUE, Short.MIN_VALUE}, Values.parseShortArray("32767,-32768"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseShortArrayOverflow() {
+    Values.parseShortArray("1,32768");
+  }
+
+  @Test
+  public void testToIntArray() {
+    assertNull(Values.toIntArray(null));
+    assertArrayEquals(new int[0], Values.toIntArray(Collections.emptyList()));
+    assertArrayEquals(new int[]{1, 2, 3}, Values.toIntArray(Arrays.asList("1", "2", "3")));
+    assertArrayEquals(new int[]{1, 2, 3, 4, 5}, Values.toIntArray(Collections.singletonList("1,2,3,4,5")));
+    assertArrayEquals(new int[]{1, 2, 3, 4}, Values.toIntArray(Arrays.asList(1, 2L, null, "3, 4")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testToIntArrayOverflow() {
+    Values.toIntArray(Collections.singletonList(1L << 40));
+  }
+
+}
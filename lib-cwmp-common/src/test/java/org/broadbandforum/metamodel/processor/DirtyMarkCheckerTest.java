@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.metamodel.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.broadbandforum.annotation.CWMPObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class DirtyMarkCheckerTest {
+
+  private static final String BOX = "package box;\n"
+    + "import org.broadbandforum.annotation.CWMPObject;\n"
+    + "import org.broadbandforum.common.DirtyBits;\n"
+    + "@CWMPObject(name = \"Box.\")\n"
+    + "public class Box {\n"
+    + "  public String name;\n"
+    + "  public Long size;\n"
+    + "  transient DirtyBits dirty;\n"
+    + "  public void setName(String name) {\n"
+    + "    this.name = name;\n"
+    + "    if (this.dirty != null){ this.dirty.set(0);}\n"
+    + "  }\n"
+    + "  public Box withSize(Long size) {\n"
+    + "    %s\n"
+    + "    return this;\n"
+    + "  }\n"
+    + "}\n";
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testValidMarks() throws Exception {
+    assertTrue(errors("this.size = size; if (this.dirty != null){ this.dirty.set(1);}").isEmpty());
+  }
+
+  @Test
+  public void testWrongOrdinal() throws Exception {
+    List<String> errors = errors("this.size = size; if (this.dirty != null){ this.dirty.set(0);}");
+    assertEquals(1, errors.size());
+    assertEquals("The method marks the parameter ordinals [0] instead of [1]", errors.get(0));
+  }
+
+  @Test
+  public void testMissingMark() throws Exception {
+    assertEquals(1, errors("this.size = size;").size());
+  }
+
+  /**
+   * Run the metamodel processor on the Box entity.
+   *
+   * @param withSize the body of Box.withSize
+   * @return the error messages
+   */
+  private List<String> errors(String withSize) throws IOException, URISyntaxException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///box/Box.java"), JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return String.format(BOX, withSize);
+      }
+    };
+    File classes = new File(CWMPObject.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    String output = folder.getRoot().getPath();
+    List<String> options = Arrays.asList("-proc:only", "-processor", MetamodelProcessor.class.getName(),
+                                         "-classpath", classes.getPath(), "-s", output, "-d", output);
+    compiler.getTask(null, null, diagnostics, options, null, Arrays.asList(source)).call();
+    List<String> errors = new ArrayList<>();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        errors.add(diagnostic.getMessage(null));
+      }
+    }
+    return errors;
+  }
+
+}
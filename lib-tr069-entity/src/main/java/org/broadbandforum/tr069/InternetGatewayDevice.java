@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr069;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr069.internetgatewaydevice.DeviceConfig;
 import org.broadbandforum.tr069.internetgatewaydevice.DeviceInfo;
 import org.broadbandforum.tr069.internetgatewaydevice.IPPingDiagnostics;
@@ -341,10 +342,20 @@ public class InternetGatewayDevice {
 	 * @return the value
 	 */
 	public Collection<LANDevice> getLanDevices() {
-		if (this.lanDevices == null){ this.lanDevices=new ArrayList<>();}
+		if (!(this.lanDevices instanceof InstanceTable)){ this.lanDevices=InstanceTable.of(this.lanDevices);}
 		return lanDevices;
 	}
 
+	/**
+	 * Read the each instance contains all LAN-related objects for a given bridged subnet.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LANDevice> viewLanDevices() {
+		return lanDevices == null ? Collections.emptyList() : lanDevices;
+	}
+
 	/**
 	 * Set the each instance contains all LAN-related objects for a given bridged subnet.
 	 *
@@ -371,10 +382,20 @@ public class InternetGatewayDevice {
 	 * @return the value
 	 */
 	public Collection<WANDevice> getWanDevices() {
-		if (this.wanDevices == null){ this.wanDevices=new ArrayList<>();}
+		if (!(this.wanDevices instanceof InstanceTable)){ this.wanDevices=InstanceTable.of(this.wanDevices);}
 		return wanDevices;
 	}
 
+	/**
+	 * Read the each instance contains all objects associated with a particular physical WAN interface.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WANDevice> viewWanDevices() {
+		return wanDevices == null ? Collections.emptyList() : wanDevices;
+	}
+
 	/**
 	 * Set the each instance contains all objects associated with a particular physical WAN interface.
 	 *
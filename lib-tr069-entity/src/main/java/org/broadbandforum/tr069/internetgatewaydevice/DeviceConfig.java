@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains general configuration parameters.
@@ -54,6 +55,11 @@ public class DeviceConfig {
 	@Size(max = -32768)
 	public String configFile;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DeviceConfig() {
 	}
 
@@ -76,6 +82,7 @@ public class DeviceConfig {
 	 */
 	public void  setPersistentData(String persistentData) {
 		this.persistentData = persistentData;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +94,7 @@ public class DeviceConfig {
 	 */
 	public DeviceConfig withPersistentData(String persistentData) {
 		this.persistentData = persistentData;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -108,6 +116,7 @@ public class DeviceConfig {
 	 */
 	public void  setConfigFile(String configFile) {
 		this.configFile = configFile;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -119,6 +128,7 @@ public class DeviceConfig {
 	 */
 	public DeviceConfig withConfigFile(String configFile) {
 		this.configFile = configFile;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
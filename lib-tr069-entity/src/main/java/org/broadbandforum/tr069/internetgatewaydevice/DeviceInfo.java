@@ -18,6 +18,7 @@ package org.broadbandforum.tr069.internetgatewaydevice;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr069.internetgatewaydevice.deviceinfo.VendorConfigFile;
 
 	/**
@@ -174,6 +179,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 * @since 1.0
 	 */
 	@XmlElement(name = "FirstUseDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime firstUseDate;
 	/**
 	 * Vendor-specific log(s).
@@ -190,6 +196,11 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	@XmlElement(name = "VendorConfigFile")
 	public Collection<VendorConfigFile> vendorConfigFiles;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DeviceInfo() {
 	}
 
@@ -212,6 +223,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -223,6 +235,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -244,6 +257,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -255,6 +269,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -276,6 +291,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -287,6 +303,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -308,6 +325,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -319,6 +337,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -340,6 +359,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -351,6 +371,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -372,6 +393,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -383,6 +405,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -404,6 +427,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -415,6 +439,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -440,6 +465,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -453,6 +479,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -474,6 +501,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setModemFirmwareVersion(String modemFirmwareVersion) {
 		this.modemFirmwareVersion = modemFirmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -485,6 +513,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withModemFirmwareVersion(String modemFirmwareVersion) {
 		this.modemFirmwareVersion = modemFirmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -499,6 +528,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return enabledOptions;
 	}
 
+	/**
+	 * Read the OptionName of each Option that is currently enabled in the CPE.  The OptionName of each is identical to the OptionName element of the OptionStruct described in {{bibref|TR-069|Table 48}}.  Only those options are listed whose State indicates the option is enabled.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEnabledOptions() {
+		return enabledOptions == null ? Collections.emptyList() : enabledOptions;
+	}
+
 	/**
 	 * Set the OptionName of each Option that is currently enabled in the CPE.  The OptionName of each is identical to the OptionName element of the OptionStruct described in {{bibref|TR-069|Table 48}}.  Only those options are listed whose State indicates the option is enabled.
 	 *
@@ -507,6 +547,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setEnabledOptions(Collection<String> enabledOptions) {
 		this.enabledOptions = enabledOptions;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -518,6 +559,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withEnabledOptions(String string) {
 		getEnabledOptions().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -532,6 +574,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return additionalHardwareVersion;
 	}
 
+	/**
+	 * Read the represents any additional hardware version information the vendor may wish to supply.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalHardwareVersion() {
+		return additionalHardwareVersion == null ? Collections.emptyList() : additionalHardwareVersion;
+	}
+
 	/**
 	 * Set the represents any additional hardware version information the vendor may wish to supply.
 	 *
@@ -540,6 +593,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setAdditionalHardwareVersion(Collection<String> additionalHardwareVersion) {
 		this.additionalHardwareVersion = additionalHardwareVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -551,6 +605,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withAdditionalHardwareVersion(String string) {
 		getAdditionalHardwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -565,6 +620,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return additionalSoftwareVersion;
 	}
 
+	/**
+	 * Read the represents any additional software version information the vendor may wish to supply.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalSoftwareVersion() {
+		return additionalSoftwareVersion == null ? Collections.emptyList() : additionalSoftwareVersion;
+	}
+
 	/**
 	 * Set the represents any additional software version information the vendor may wish to supply.
 	 *
@@ -573,6 +639,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setAdditionalSoftwareVersion(Collection<String> additionalSoftwareVersion) {
 		this.additionalSoftwareVersion = additionalSoftwareVersion;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -584,6 +651,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withAdditionalSoftwareVersion(String string) {
 		getAdditionalSoftwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -605,6 +673,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setSpecVersion(String specVersion) {
 		this.specVersion = specVersion;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -616,6 +685,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withSpecVersion(String specVersion) {
 		this.specVersion = specVersion;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -641,6 +711,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -654,6 +725,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -675,6 +747,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -686,6 +759,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -707,6 +781,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -718,6 +793,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -739,6 +815,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setDeviceLog(String deviceLog) {
 		this.deviceLog = deviceLog;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -750,6 +827,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withDeviceLog(String deviceLog) {
 		this.deviceLog = deviceLog;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -759,10 +837,20 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 * @return the value
 	 */
 	public Collection<VendorConfigFile> getVendorConfigFiles() {
-		if (this.vendorConfigFiles == null){ this.vendorConfigFiles=new ArrayList<>();}
+		if (!(this.vendorConfigFiles instanceof InstanceTable)){ this.vendorConfigFiles=InstanceTable.of(this.vendorConfigFiles);}
 		return vendorConfigFiles;
 	}
 
+	/**
+	 * Read the every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor Configuration File.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VendorConfigFile> viewVendorConfigFiles() {
+		return vendorConfigFiles == null ? Collections.emptyList() : vendorConfigFiles;
+	}
+
 	/**
 	 * Set the every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor Configuration File.
 	 *
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is provides access to an IP-layer ping test.
@@ -147,6 +148,11 @@ The following is a LAN interface example:
 	@XmlElement(name = "MaximumResponseTime")
 	public Long maximumResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPPingDiagnostics() {
 	}
 
@@ -181,6 +187,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -198,6 +205,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public IPPingDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -235,6 +243,7 @@ The following is a LAN interface example:
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -254,6 +263,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -275,6 +285,7 @@ The following is a LAN interface example:
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -286,6 +297,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -307,6 +319,7 @@ The following is a LAN interface example:
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -318,6 +331,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -339,6 +353,7 @@ The following is a LAN interface example:
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -350,6 +365,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -371,6 +387,7 @@ The following is a LAN interface example:
 	 */
 	public void  setDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -382,6 +399,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -403,6 +421,7 @@ The following is a LAN interface example:
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -414,6 +433,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -435,6 +455,7 @@ The following is a LAN interface example:
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -446,6 +467,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -467,6 +489,7 @@ The following is a LAN interface example:
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -478,6 +501,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -499,6 +523,7 @@ The following is a LAN interface example:
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -510,6 +535,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -531,6 +557,7 @@ The following is a LAN interface example:
 	 */
 	public void  setMinimumResponseTmie(Long minimumResponseTmie) {
 		this.minimumResponseTmie = minimumResponseTmie;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -542,6 +569,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withMinimumResponseTmie(Long minimumResponseTmie) {
 		this.minimumResponseTmie = minimumResponseTmie;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -563,6 +591,7 @@ The following is a LAN interface example:
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -574,6 +603,7 @@ The following is a LAN interface example:
 	 */
 	public IPPingDiagnostics withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains generic device configuration information.
@@ -45,6 +46,11 @@ public class LANConfigSecurity {
 	@Size(max = 64)
 	public String configPassword;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LANConfigSecurity() {
 	}
 
@@ -67,6 +73,7 @@ public class LANConfigSecurity {
 	 */
 	public void  setConfigPassword(String configPassword) {
 		this.configPassword = configPassword;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -78,6 +85,7 @@ public class LANConfigSecurity {
 	 */
 	public LANConfigSecurity withConfigPassword(String configPassword) {
 		this.configPassword = configPassword;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
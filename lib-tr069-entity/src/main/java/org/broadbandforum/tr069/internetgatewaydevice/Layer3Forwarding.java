@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr069.internetgatewaydevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr069.internetgatewaydevice.layer3forwarding.Forwarding;
 
 	/**
@@ -56,6 +58,11 @@ public class Layer3Forwarding {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Forwarding> forwardings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Layer3Forwarding() {
 	}
 
@@ -78,6 +85,7 @@ public class Layer3Forwarding {
 	 */
 	public void  setDefaultConnectionService(String defaultConnectionService) {
 		this.defaultConnectionService = defaultConnectionService;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -89,6 +97,7 @@ public class Layer3Forwarding {
 	 */
 	public Layer3Forwarding withDefaultConnectionService(String defaultConnectionService) {
 		this.defaultConnectionService = defaultConnectionService;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -98,10 +107,20 @@ public class Layer3Forwarding {
 	 * @return the value
 	 */
 	public Collection<Forwarding> getForwardings() {
-		if (this.forwardings == null){ this.forwardings=new ArrayList<>();}
+		if (!(this.forwardings instanceof InstanceTable)){ this.forwardings=InstanceTable.of(this.forwardings);}
 		return forwardings;
 	}
 
+	/**
+	 * Read the layer-3 forwarding table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Forwarding> viewForwardings() {
+		return forwardings == null ? Collections.emptyList() : forwardings;
+	}
+
 	/**
 	 * Set the layer-3 forwarding table.
 	 *
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating to the CPE's association with an ACS.
@@ -96,6 +99,7 @@ A zero dateTime value (0000-00-00T00:00:00) indicates that no particular time re
 	 * @since 1.0
 	 */
 	@XmlElement(name = "PeriodicInformTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicInformTime;
 	/**
@@ -167,6 +171,11 @@ LAN-accessible URL to which a web-server associated with the ACS may redirect a
 	@Size(max = 256)
 	public String downloadProgressURL;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ManagementServer() {
 	}
 
@@ -197,6 +206,7 @@ The ''host'' portion of this URL is used by the CPE for validating the certifica
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -212,6 +222,7 @@ The ''host'' portion of this URL is used by the CPE for validating the certifica
 	 */
 	public ManagementServer withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -237,6 +248,7 @@ This username is used only for HTTP-based authentication of the CPE.
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -250,6 +262,7 @@ This username is used only for HTTP-based authentication of the CPE.
 	 */
 	public ManagementServer withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -275,6 +288,7 @@ This password is used only for HTTP-based authentication of the CPE.
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -288,6 +302,7 @@ This password is used only for HTTP-based authentication of the CPE.
 	 */
 	public ManagementServer withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -309,6 +324,7 @@ This password is used only for HTTP-based authentication of the CPE.
 	 */
 	public void  setPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -320,6 +336,7 @@ This password is used only for HTTP-based authentication of the CPE.
 	 */
 	public ManagementServer withPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -341,6 +358,7 @@ This password is used only for HTTP-based authentication of the CPE.
 	 */
 	public void  setPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -352,6 +370,7 @@ This password is used only for HTTP-based authentication of the CPE.
 	 */
 	public ManagementServer withPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -377,6 +396,7 @@ A zero dateTime value (0000-00-00T00:00:00) indicates that no particular time re
 	 */
 	public void  setPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -390,6 +410,7 @@ A zero dateTime value (0000-00-00T00:00:00) indicates that no particular time re
 	 */
 	public ManagementServer withPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -411,6 +432,7 @@ A zero dateTime value (0000-00-00T00:00:00) indicates that no particular time re
 	 */
 	public void  setParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -422,6 +444,7 @@ A zero dateTime value (0000-00-00T00:00:00) indicates that no particular time re
 	 */
 	public ManagementServer withParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -455,6 +478,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -472,6 +496,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -493,6 +518,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -504,6 +530,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -525,6 +552,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -536,6 +564,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -557,6 +586,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -568,6 +598,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -593,6 +624,7 @@ LAN-accessible URL from which the CPE can be "kicked" to initiate the Kicked RPC
 	 */
 	public void  setKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -606,6 +638,7 @@ LAN-accessible URL from which the CPE can be "kicked" to initiate the Kicked RPC
 	 */
 	public ManagementServer withKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -631,6 +664,7 @@ LAN-accessible URL to which a web-server associated with the ACS may redirect a
 	 */
 	public void  setDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -644,6 +678,7 @@ LAN-accessible URL to which a web-server associated with the ACS may redirect a
 	 */
 	public ManagementServer withDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating an NTP or SNTP time client in the CPE.  Support for this object is Optional.
@@ -87,6 +90,7 @@ public class Time {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "CurrentLocalTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime currentLocalTime;
 	/**
 	 * The local time offset from UTC in the form:
@@ -124,6 +128,7 @@ public class Time {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "DaylightSavingsStart")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime daylightSavingsStart;
 	/**
@@ -132,9 +137,15 @@ public class Time {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "DaylightSavingsEnd")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime daylightSavingsEnd;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Time() {
 	}
 
@@ -157,6 +168,7 @@ public class Time {
 	 */
 	public void  setNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -168,6 +180,7 @@ public class Time {
 	 */
 	public Time withNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -189,6 +202,7 @@ public class Time {
 	 */
 	public void  setNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -200,6 +214,7 @@ public class Time {
 	 */
 	public Time withNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -221,6 +236,7 @@ public class Time {
 	 */
 	public void  setNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -232,6 +248,7 @@ public class Time {
 	 */
 	public Time withNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -253,6 +270,7 @@ public class Time {
 	 */
 	public void  setNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -264,6 +282,7 @@ public class Time {
 	 */
 	public Time withNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -285,6 +304,7 @@ public class Time {
 	 */
 	public void  setNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -296,6 +316,7 @@ public class Time {
 	 */
 	public Time withNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -317,6 +338,7 @@ public class Time {
 	 */
 	public void  setCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -328,6 +350,7 @@ public class Time {
 	 */
 	public Time withCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -357,6 +380,7 @@ public class Time {
 	 */
 	public void  setLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -372,6 +396,7 @@ public class Time {
 	 */
 	public Time withLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -393,6 +418,7 @@ public class Time {
 	 */
 	public void  setLocalTimeZoneName(String localTimeZoneName) {
 		this.localTimeZoneName = localTimeZoneName;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -404,6 +430,7 @@ public class Time {
 	 */
 	public Time withLocalTimeZoneName(String localTimeZoneName) {
 		this.localTimeZoneName = localTimeZoneName;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -425,6 +452,7 @@ public class Time {
 	 */
 	public void  setDaylightSavingsUsed(Boolean daylightSavingsUsed) {
 		this.daylightSavingsUsed = daylightSavingsUsed;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -436,6 +464,7 @@ public class Time {
 	 */
 	public Time withDaylightSavingsUsed(Boolean daylightSavingsUsed) {
 		this.daylightSavingsUsed = daylightSavingsUsed;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -457,6 +486,7 @@ public class Time {
 	 */
 	public void  setDaylightSavingsStart(LocalDateTime daylightSavingsStart) {
 		this.daylightSavingsStart = daylightSavingsStart;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -468,6 +498,7 @@ public class Time {
 	 */
 	public Time withDaylightSavingsStart(LocalDateTime daylightSavingsStart) {
 		this.daylightSavingsStart = daylightSavingsStart;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -489,6 +520,7 @@ public class Time {
 	 */
 	public void  setDaylightSavingsEnd(LocalDateTime daylightSavingsEnd) {
 		this.daylightSavingsEnd = daylightSavingsEnd;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -500,6 +532,7 @@ public class Time {
 	 */
 	public Time withDaylightSavingsEnd(LocalDateTime daylightSavingsEnd) {
 		this.daylightSavingsEnd = daylightSavingsEnd;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating to the user interface of the CPE.  Support for this object is Optional.
@@ -70,6 +73,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 * @since 1.0
 	 */
 	@XmlElement(name = "WarrantyDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime warrantyDate;
 	/**
@@ -220,6 +224,11 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	@Size(max = 30)
 	public String examplePassword;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UserInterface() {
 	}
 
@@ -246,6 +255,7 @@ Indicates whether or not the local user interface must require a password to be
 	 */
 	public void  setPasswordRequired(Boolean passwordRequired) {
 		this.passwordRequired = passwordRequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -259,6 +269,7 @@ Indicates whether or not the local user interface must require a password to be
 	 */
 	public UserInterface withPasswordRequired(Boolean passwordRequired) {
 		this.passwordRequired = passwordRequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -284,6 +295,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setPasswordUserSelectable(Boolean passwordUserSelectable) {
 		this.passwordUserSelectable = passwordUserSelectable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -297,6 +309,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withPasswordUserSelectable(Boolean passwordUserSelectable) {
 		this.passwordUserSelectable = passwordUserSelectable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -318,6 +331,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setUpgradeAvailable(Boolean upgradeAvailable) {
 		this.upgradeAvailable = upgradeAvailable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -329,6 +343,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withUpgradeAvailable(Boolean upgradeAvailable) {
 		this.upgradeAvailable = upgradeAvailable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -350,6 +365,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setWarrantyDate(LocalDateTime warrantyDate) {
 		this.warrantyDate = warrantyDate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -361,6 +377,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withWarrantyDate(LocalDateTime warrantyDate) {
 		this.warrantyDate = warrantyDate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -382,6 +399,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspName(String ispName) {
 		this.ispName = ispName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -393,6 +411,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspName(String ispName) {
 		this.ispName = ispName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -414,6 +433,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspHelpDesk(String ispHelpDesk) {
 		this.ispHelpDesk = ispHelpDesk;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -425,6 +445,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspHelpDesk(String ispHelpDesk) {
 		this.ispHelpDesk = ispHelpDesk;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -446,6 +467,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspHomePage(String ispHomePage) {
 		this.ispHomePage = ispHomePage;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -457,6 +479,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspHomePage(String ispHomePage) {
 		this.ispHomePage = ispHomePage;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -478,6 +501,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspHelpPage(String ispHelpPage) {
 		this.ispHelpPage = ispHelpPage;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -489,6 +513,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspHelpPage(String ispHelpPage) {
 		this.ispHelpPage = ispHelpPage;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -510,6 +535,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspLogo(String ispLogo) {
 		this.ispLogo = ispLogo;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -521,6 +547,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspLogo(String ispLogo) {
 		this.ispLogo = ispLogo;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -550,6 +577,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setIspLogoSize(Long ispLogoSize) {
 		this.ispLogoSize = ispLogoSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -565,6 +593,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withIspLogoSize(Long ispLogoSize) {
 		this.ispLogoSize = ispLogoSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -586,6 +615,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setIspMailServer(String ispMailServer) {
 		this.ispMailServer = ispMailServer;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -597,6 +627,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withIspMailServer(String ispMailServer) {
 		this.ispMailServer = ispMailServer;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -618,6 +649,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setIspNewsServer(String ispNewsServer) {
 		this.ispNewsServer = ispNewsServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -629,6 +661,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withIspNewsServer(String ispNewsServer) {
 		this.ispNewsServer = ispNewsServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -650,6 +683,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setTextColor(String textColor) {
 		this.textColor = textColor;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -661,6 +695,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withTextColor(String textColor) {
 		this.textColor = textColor;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -682,6 +717,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setBackgroundColor(String backgroundColor) {
 		this.backgroundColor = backgroundColor;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -693,6 +729,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withBackgroundColor(String backgroundColor) {
 		this.backgroundColor = backgroundColor;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -714,6 +751,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setButtonColor(String buttonColor) {
 		this.buttonColor = buttonColor;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -725,6 +763,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withButtonColor(String buttonColor) {
 		this.buttonColor = buttonColor;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -746,6 +785,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setButtonTextColor(String buttonTextColor) {
 		this.buttonTextColor = buttonTextColor;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -757,6 +797,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withButtonTextColor(String buttonTextColor) {
 		this.buttonTextColor = buttonTextColor;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -778,6 +819,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setAutoUpdateServer(String autoUpdateServer) {
 		this.autoUpdateServer = autoUpdateServer;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -789,6 +831,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withAutoUpdateServer(String autoUpdateServer) {
 		this.autoUpdateServer = autoUpdateServer;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -810,6 +853,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setUserUpdateServer(String userUpdateServer) {
 		this.userUpdateServer = userUpdateServer;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -821,6 +865,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withUserUpdateServer(String userUpdateServer) {
 		this.userUpdateServer = userUpdateServer;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -842,6 +887,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setExampleLogin(String exampleLogin) {
 		this.exampleLogin = exampleLogin;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -853,6 +899,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withExampleLogin(String exampleLogin) {
 		this.exampleLogin = exampleLogin;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -874,6 +921,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setExamplePassword(String examplePassword) {
 		this.examplePassword = examplePassword;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -885,6 +933,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withExamplePassword(String examplePassword) {
 		this.examplePassword = examplePassword;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr069.internetgatewaydevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.WANCommonInterfaceConfig;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.WANConnectionDevice;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.WANDSLConnectionManagement;
@@ -231,10 +232,20 @@ public class WANDevice {
 	 * @return the value
 	 */
 	public Collection<WANConnectionDevice> getWanConnectionDevices() {
-		if (this.wanConnectionDevices == null){ this.wanConnectionDevices=new ArrayList<>();}
+		if (!(this.wanConnectionDevices instanceof InstanceTable)){ this.wanConnectionDevices=InstanceTable.of(this.wanConnectionDevices);}
 		return wanConnectionDevices;
 	}
 
+	/**
+	 * Read the each instance contains objects associated with a given WAN link.  In this case of DSL, each instance corresponds to a single ATM VC.  On creation of a ''WANConnectionDevice'' instance, there are initially no connection objects contained within.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WANConnectionDevice> viewWanConnectionDevices() {
+		return wanConnectionDevices == null ? Collections.emptyList() : wanConnectionDevices;
+	}
+
 	/**
 	 * Set the each instance contains objects associated with a given WAN link.  In this case of DSL, each instance corresponds to a single ATM VC.  On creation of a ''WANConnectionDevice'' instance, there are initially no connection objects contained within.
 	 *
@@ -22,8 +22,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor Configuration File.
@@ -58,6 +62,7 @@ public class VendorConfigFile {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "Date")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime date;
 	/**
 	 * A description of the vendor configuration file (human-readable string).
@@ -68,6 +73,16 @@ public class VendorConfigFile {
 	@Size(max = 256)
 	public String description;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VendorConfigFile() {
 	}
 
@@ -90,6 +105,8 @@ public class VendorConfigFile {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -101,6 +118,8 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -122,6 +141,7 @@ public class VendorConfigFile {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -133,6 +153,7 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -154,6 +175,7 @@ public class VendorConfigFile {
 	 */
 	public void  setDate(LocalDateTime date) {
 		this.date = date;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -165,6 +187,7 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withDate(LocalDateTime date) {
 		this.date = date;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -186,6 +209,7 @@ public class VendorConfigFile {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -197,6 +221,7 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr069.internetgatewaydevice.landevice.lanethernetinterfaceconfig.Stats;
 
@@ -89,6 +91,16 @@ public class LANEthernetInterfaceConfig {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LANEthernetInterfaceConfig() {
 	}
 
@@ -111,6 +123,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +135,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public LANEthernetInterfaceConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +157,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +169,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public LANEthernetInterfaceConfig withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -175,6 +191,8 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -186,6 +204,8 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public LANEthernetInterfaceConfig withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -207,6 +227,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public void  setMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -218,6 +239,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public LANEthernetInterfaceConfig withMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -239,6 +261,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public void  setMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -250,6 +273,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public LANEthernetInterfaceConfig withMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -271,6 +295,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public void  setDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -282,6 +307,7 @@ public class LANEthernetInterfaceConfig {
 	 */
 	public LANEthernetInterfaceConfig withDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
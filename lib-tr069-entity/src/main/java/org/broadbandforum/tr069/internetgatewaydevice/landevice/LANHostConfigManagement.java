@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr069.internetgatewaydevice.landevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,7 +26,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr069.internetgatewaydevice.landevice.lanhostconfigmanagement.IPInterface;
 
@@ -187,6 +189,11 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	@CWMPParameter(access = "readWrite")
 	public Collection<IPInterface> ipinterfaces;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LANHostConfigManagement() {
 	}
 
@@ -209,6 +216,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setDhcPServerConfigurable(Boolean dhcPServerConfigurable) {
 		this.dhcPServerConfigurable = dhcPServerConfigurable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -220,6 +228,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withDhcPServerConfigurable(Boolean dhcPServerConfigurable) {
 		this.dhcPServerConfigurable = dhcPServerConfigurable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -241,6 +250,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setDhcPServerEnable(Boolean dhcPServerEnable) {
 		this.dhcPServerEnable = dhcPServerEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -252,6 +262,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withDhcPServerEnable(Boolean dhcPServerEnable) {
 		this.dhcPServerEnable = dhcPServerEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -273,6 +284,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setDhcPRelay(Boolean dhcPRelay) {
 		this.dhcPRelay = dhcPRelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -284,6 +296,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withDhcPRelay(Boolean dhcPRelay) {
 		this.dhcPRelay = dhcPRelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -305,6 +318,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setMinAddress(IPAddress minAddress) {
 		this.minAddress = minAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -316,6 +330,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withMinAddress(IPAddress minAddress) {
 		this.minAddress = minAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -337,6 +352,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setMaxAddress(IPAddress maxAddress) {
 		this.maxAddress = maxAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -348,6 +364,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withMaxAddress(IPAddress maxAddress) {
 		this.maxAddress = maxAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -369,6 +386,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setReservedAddresses(IPAddress reservedAddresses) {
 		this.reservedAddresses = reservedAddresses;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -380,6 +398,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withReservedAddresses(IPAddress reservedAddresses) {
 		this.reservedAddresses = reservedAddresses;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -401,6 +420,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -412,6 +432,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -433,6 +454,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -444,6 +466,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -465,6 +488,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -476,6 +500,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -497,6 +522,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setIprouters(IPAddress iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -508,6 +534,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withIprouters(IPAddress iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -529,6 +556,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setDhcPLeaseTime(Integer dhcPLeaseTime) {
 		this.dhcPLeaseTime = dhcPLeaseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -540,6 +568,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withDhcPLeaseTime(Integer dhcPLeaseTime) {
 		this.dhcPLeaseTime = dhcPLeaseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -573,6 +602,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public void  setUseAllocatedWAN(String useAllocatedWAN) {
 		this.useAllocatedWAN = useAllocatedWAN;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -590,6 +620,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public LANHostConfigManagement withUseAllocatedWAN(String useAllocatedWAN) {
 		this.useAllocatedWAN = useAllocatedWAN;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -611,6 +642,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public void  setAssociatedConnection(String associatedConnection) {
 		this.associatedConnection = associatedConnection;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -622,6 +654,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public LANHostConfigManagement withAssociatedConnection(String associatedConnection) {
 		this.associatedConnection = associatedConnection;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -647,6 +680,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setPassthroughLease(Long passthroughLease) {
 		this.passthroughLease = passthroughLease;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -660,6 +694,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withPassthroughLease(Long passthroughLease) {
 		this.passthroughLease = passthroughLease;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -681,6 +716,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setPassthroughMACAddress(MACAddress passthroughMACAddress) {
 		this.passthroughMACAddress = passthroughMACAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -692,6 +728,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withPassthroughMACAddress(MACAddress passthroughMACAddress) {
 		this.passthroughMACAddress = passthroughMACAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -713,6 +750,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public void  setAllowedMACAddresses(MACAddress allowedMACAddresses) {
 		this.allowedMACAddresses = allowedMACAddresses;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -724,6 +762,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 */
 	public LANHostConfigManagement withAllowedMACAddresses(MACAddress allowedMACAddresses) {
 		this.allowedMACAddresses = allowedMACAddresses;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -733,10 +772,20 @@ Note: A temporary private IP address with short lease (for example, 1 min) may b
 	 * @return the value
 	 */
 	public Collection<IPInterface> getIpinterfaces() {
-		if (this.ipinterfaces == null){ this.ipinterfaces=new ArrayList<>();}
+		if (!(this.ipinterfaces instanceof InstanceTable)){ this.ipinterfaces=InstanceTable.of(this.ipinterfaces);}
 		return ipinterfaces;
 	}
 
+	/**
+	 * Read the ip interface table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPInterface> viewIpinterfaces() {
+		return ipinterfaces == null ? Collections.emptyList() : ipinterfaces;
+	}
+
 	/**
 	 * Set the ip interface table.
 	 *
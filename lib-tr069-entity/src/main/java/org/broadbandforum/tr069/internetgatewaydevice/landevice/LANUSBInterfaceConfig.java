@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr069.internetgatewaydevice.landevice.lanusbinterfaceconfig.Stats;
 
@@ -103,6 +105,16 @@ public class LANUSBInterfaceConfig {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LANUSBInterfaceConfig() {
 	}
 
@@ -125,6 +137,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +149,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -157,6 +171,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -168,6 +183,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -189,6 +205,8 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -200,6 +218,8 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -221,6 +241,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -232,6 +253,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -253,6 +275,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -264,6 +287,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -285,6 +309,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -296,6 +321,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -317,6 +343,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -328,6 +355,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -349,6 +377,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public void  setPower(String power) {
 		this.power = power;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -360,6 +389,7 @@ public class LANUSBInterfaceConfig {
 	 */
 	public LANUSBInterfaceConfig withPower(String power) {
 		this.power = power;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr069.internetgatewaydevice.landevice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr069.internetgatewaydevice.landevice.wlanconfiguration.AssociatedDevice;
 import org.broadbandforum.tr069.internetgatewaydevice.landevice.wlanconfiguration.PreSharedKey;
 import org.broadbandforum.tr069.internetgatewaydevice.landevice.wlanconfiguration.WEPKey;
@@ -419,6 +422,16 @@ Ranges in the form "n-m" are permitted.
 	@CWMPParameter(minEntries = 10, maxEntries = 10)
 	public Collection<PreSharedKey> preSharedKeies;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public WLANConfiguration() {
 	}
 
@@ -441,6 +454,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -452,6 +466,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -473,6 +488,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -484,6 +500,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -505,6 +522,8 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setBssID(String bssID) {
 		this.bssID = bssID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -516,6 +535,8 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withBssID(String bssID) {
 		this.bssID = bssID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -537,6 +558,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -548,6 +570,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -569,6 +592,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setChannel(Long channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -580,6 +604,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withChannel(Long channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -601,6 +626,8 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setSsiD(String ssiD) {
 		this.ssiD = ssiD;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -612,6 +639,8 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withSsiD(String ssiD) {
 		this.ssiD = ssiD;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -633,6 +662,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setBeaconType(String beaconType) {
 		this.beaconType = beaconType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -644,6 +674,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withBeaconType(String beaconType) {
 		this.beaconType = beaconType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -665,6 +696,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -676,6 +708,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -697,6 +730,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -708,6 +742,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -729,6 +764,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setWepKeyIndex(Long wepKeyIndex) {
 		this.wepKeyIndex = wepKeyIndex;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -740,6 +776,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withWepKeyIndex(Long wepKeyIndex) {
 		this.wepKeyIndex = wepKeyIndex;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -773,6 +810,7 @@ Note: If a passphrase is used, all four WEP keys will be the same.
 	 */
 	public void  setKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -790,6 +828,7 @@ Note: If a passphrase is used, all four WEP keys will be the same.
 	 */
 	public WLANConfiguration withKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -808,6 +847,21 @@ Any additional vendor-specific values must start with the key length in bits.
 		return wepEncryptionLevel;
 	}
 
+	/**
+	 * Read the supported key lengths.  
+
+Enumerated value must be one of [Disabled, 40-bit, 104-bit]
+
+Any additional vendor-specific values must start with the key length in bits.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewWepEncryptionLevel() {
+		return wepEncryptionLevel == null ? Collections.emptyList() : wepEncryptionLevel;
+	}
+
 	/**
 	 * Set the supported key lengths.  
 
@@ -820,6 +874,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public void  setWepEncryptionLevel(Collection<String> wepEncryptionLevel) {
 		this.wepEncryptionLevel = wepEncryptionLevel;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -835,6 +890,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public WLANConfiguration withWepEncryptionLevel(String string) {
 		getWepEncryptionLevel().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -856,6 +912,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public void  setBasicEncryptionModes(String basicEncryptionModes) {
 		this.basicEncryptionModes = basicEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -867,6 +924,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public WLANConfiguration withBasicEncryptionModes(String basicEncryptionModes) {
 		this.basicEncryptionModes = basicEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -888,6 +946,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public void  setBasicAuthenticationMode(String basicAuthenticationMode) {
 		this.basicAuthenticationMode = basicAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -899,6 +958,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public WLANConfiguration withBasicAuthenticationMode(String basicAuthenticationMode) {
 		this.basicAuthenticationMode = basicAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -920,6 +980,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public void  setWpaEncryptionModes(String wpaEncryptionModes) {
 		this.wpaEncryptionModes = wpaEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -931,6 +992,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public WLANConfiguration withWpaEncryptionModes(String wpaEncryptionModes) {
 		this.wpaEncryptionModes = wpaEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -952,6 +1014,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public void  setWpaAuthenticationMode(String wpaAuthenticationMode) {
 		this.wpaAuthenticationMode = wpaAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -963,6 +1026,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public WLANConfiguration withWpaAuthenticationMode(String wpaAuthenticationMode) {
 		this.wpaAuthenticationMode = wpaAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -984,6 +1048,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public void  setIeeE11iEncryptionModes(String ieeE11iEncryptionModes) {
 		this.ieeE11iEncryptionModes = ieeE11iEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -995,6 +1060,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public WLANConfiguration withIeeE11iEncryptionModes(String ieeE11iEncryptionModes) {
 		this.ieeE11iEncryptionModes = ieeE11iEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1016,6 +1082,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public void  setIeeE11iAuthenticationMode(String ieeE11iAuthenticationMode) {
 		this.ieeE11iAuthenticationMode = ieeE11iAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1027,6 +1094,7 @@ Any additional vendor-specific values must start with the key length in bits.
 	 */
 	public WLANConfiguration withIeeE11iAuthenticationMode(String ieeE11iAuthenticationMode) {
 		this.ieeE11iAuthenticationMode = ieeE11iAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1045,6 +1113,21 @@ For example, for 802.11b and North America, would be "1-11".
 		return possibleChannels;
 	}
 
+	/**
+	 * Read the possible radio channels for the wireless standard (a, b or g) and the regulatory domain. 
+
+Ranges in the form "n-m" are permitted.
+
+For example, for 802.11b and North America, would be "1-11".
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleChannels() {
+		return possibleChannels == null ? Collections.emptyList() : possibleChannels;
+	}
+
 	/**
 	 * Set the possible radio channels for the wireless standard (a, b or g) and the regulatory domain. 
 
@@ -1057,6 +1140,7 @@ For example, for 802.11b and North America, would be "1-11".
 	 */
 	public void  setPossibleChannels(Collection<String> possibleChannels) {
 		this.possibleChannels = possibleChannels;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1072,6 +1156,7 @@ For example, for 802.11b and North America, would be "1-11".
 	 */
 	public WLANConfiguration withPossibleChannels(String string) {
 		getPossibleChannels().add(string);
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1088,6 +1173,19 @@ For example, a value of "1,2", indicates that unicast, multicast and broadcast f
 		return basicDataTransmitRates;
 	}
 
+	/**
+	 * Read the maximum access point data transmit rates in Mbps for unicast, multicast and broadcast frames.
+
+For example, a value of "1,2", indicates that unicast, multicast and broadcast frames can be transmitted at 1 Mbps and 2 Mbps.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBasicDataTransmitRates() {
+		return basicDataTransmitRates == null ? Collections.emptyList() : basicDataTransmitRates;
+	}
+
 	/**
 	 * Set the maximum access point data transmit rates in Mbps for unicast, multicast and broadcast frames.
 
@@ -1098,6 +1196,7 @@ For example, a value of "1,2", indicates that unicast, multicast and broadcast f
 	 */
 	public void  setBasicDataTransmitRates(Collection<String> basicDataTransmitRates) {
 		this.basicDataTransmitRates = basicDataTransmitRates;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1111,6 +1210,7 @@ For example, a value of "1,2", indicates that unicast, multicast and broadcast f
 	 */
 	public WLANConfiguration withBasicDataTransmitRates(String string) {
 		getBasicDataTransmitRates().add(string);
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1127,6 +1227,19 @@ Given the value of {{param|BasicDataTransmitRates}} from the example above, {{pa
 		return operationalDataTransmitRates;
 	}
 
+	/**
+	 * Read the maximum access point data transmit rates in Mbps for unicast frames (a superset of {{param|BasicDataTransmitRates}}).
+
+Given the value of {{param|BasicDataTransmitRates}} from the example above, {{param}} might be "1,2,5.5,11", indicating that unicast frames can additionally be transmitted at 5.5 Mbps and 11 Mbps.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOperationalDataTransmitRates() {
+		return operationalDataTransmitRates == null ? Collections.emptyList() : operationalDataTransmitRates;
+	}
+
 	/**
 	 * Set the maximum access point data transmit rates in Mbps for unicast frames (a superset of {{param|BasicDataTransmitRates}}).
 
@@ -1137,6 +1250,7 @@ Given the value of {{param|BasicDataTransmitRates}} from the example above, {{pa
 	 */
 	public void  setOperationalDataTransmitRates(Collection<String> operationalDataTransmitRates) {
 		this.operationalDataTransmitRates = operationalDataTransmitRates;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1150,6 +1264,7 @@ Given the value of {{param|BasicDataTransmitRates}} from the example above, {{pa
 	 */
 	public WLANConfiguration withOperationalDataTransmitRates(String string) {
 		getOperationalDataTransmitRates().add(string);
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1166,6 +1281,19 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 		return possibleDataTransmitRates;
 	}
 
+	/**
+	 * Read the data transmit rates for unicast frames at which the access point will permit a station to connect (a subset of {{param|OperationalDataTransmitRates}}).
+
+Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalDataTransmitRates}} from the examples above, {{param}} might be "1,2,5.5", indicating that the AP will only permit connections at 1 Mbps, 2 Mbps and 5.5 Mbps, even though it could theoretically accept connections at 11 Mbps.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleDataTransmitRates() {
+		return possibleDataTransmitRates == null ? Collections.emptyList() : possibleDataTransmitRates;
+	}
+
 	/**
 	 * Set the data transmit rates for unicast frames at which the access point will permit a station to connect (a subset of {{param|OperationalDataTransmitRates}}).
 
@@ -1176,6 +1304,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setPossibleDataTransmitRates(Collection<String> possibleDataTransmitRates) {
 		this.possibleDataTransmitRates = possibleDataTransmitRates;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1189,6 +1318,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withPossibleDataTransmitRates(String string) {
 		getPossibleDataTransmitRates().add(string);
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1210,6 +1340,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setInsecureOOBAccessEnabled(Boolean insecureOOBAccessEnabled) {
 		this.insecureOOBAccessEnabled = insecureOOBAccessEnabled;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1221,6 +1352,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withInsecureOOBAccessEnabled(Boolean insecureOOBAccessEnabled) {
 		this.insecureOOBAccessEnabled = insecureOOBAccessEnabled;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1242,6 +1374,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setBeaconAdvertisementEnabled(Boolean beaconAdvertisementEnabled) {
 		this.beaconAdvertisementEnabled = beaconAdvertisementEnabled;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1253,6 +1386,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withBeaconAdvertisementEnabled(Boolean beaconAdvertisementEnabled) {
 		this.beaconAdvertisementEnabled = beaconAdvertisementEnabled;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1274,6 +1408,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setRadioEnabled(Boolean radioEnabled) {
 		this.radioEnabled = radioEnabled;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1285,6 +1420,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withRadioEnabled(Boolean radioEnabled) {
 		this.radioEnabled = radioEnabled;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1306,6 +1442,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setAutoRateFallBackEnabled(Boolean autoRateFallBackEnabled) {
 		this.autoRateFallBackEnabled = autoRateFallBackEnabled;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1317,6 +1454,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withAutoRateFallBackEnabled(Boolean autoRateFallBackEnabled) {
 		this.autoRateFallBackEnabled = autoRateFallBackEnabled;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1338,6 +1476,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setLocationDescription(String locationDescription) {
 		this.locationDescription = locationDescription;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1349,6 +1488,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withLocationDescription(String locationDescription) {
 		this.locationDescription = locationDescription;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1370,6 +1510,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setRegulatoryDomain(String regulatoryDomain) {
 		this.regulatoryDomain = regulatoryDomain;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1381,6 +1522,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withRegulatoryDomain(String regulatoryDomain) {
 		this.regulatoryDomain = regulatoryDomain;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1402,6 +1544,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setTotalPSKFailures(Long totalPSKFailures) {
 		this.totalPSKFailures = totalPSKFailures;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1413,6 +1556,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withTotalPSKFailures(Long totalPSKFailures) {
 		this.totalPSKFailures = totalPSKFailures;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1434,6 +1578,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setTotalIntegrityFailures(Long totalIntegrityFailures) {
 		this.totalIntegrityFailures = totalIntegrityFailures;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1445,6 +1590,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withTotalIntegrityFailures(Long totalIntegrityFailures) {
 		this.totalIntegrityFailures = totalIntegrityFailures;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1461,6 +1607,19 @@ Ranges in the form "n-m" are permitted.
 		return channelsInUse;
 	}
 
+	/**
+	 * Read the channels that the access point determines to be currently in use (including any that it is using itself).
+
+Ranges in the form "n-m" are permitted.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewChannelsInUse() {
+		return channelsInUse == null ? Collections.emptyList() : channelsInUse;
+	}
+
 	/**
 	 * Set the channels that the access point determines to be currently in use (including any that it is using itself).
 
@@ -1471,6 +1630,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setChannelsInUse(Collection<String> channelsInUse) {
 		this.channelsInUse = channelsInUse;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1484,6 +1644,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withChannelsInUse(String string) {
 		getChannelsInUse().add(string);
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1505,6 +1666,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setDeviceOperationMode(String deviceOperationMode) {
 		this.deviceOperationMode = deviceOperationMode;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1516,6 +1678,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withDeviceOperationMode(String deviceOperationMode) {
 		this.deviceOperationMode = deviceOperationMode;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1537,6 +1700,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setDistanceFromRoot(Long distanceFromRoot) {
 		this.distanceFromRoot = distanceFromRoot;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1548,6 +1712,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withDistanceFromRoot(Long distanceFromRoot) {
 		this.distanceFromRoot = distanceFromRoot;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1569,6 +1734,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setPeerBSSID(String peerBSSID) {
 		this.peerBSSID = peerBSSID;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -1580,6 +1746,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withPeerBSSID(String peerBSSID) {
 		this.peerBSSID = peerBSSID;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -1601,6 +1768,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setAuthenticationServiceMode(String authenticationServiceMode) {
 		this.authenticationServiceMode = authenticationServiceMode;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -1612,6 +1780,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withAuthenticationServiceMode(String authenticationServiceMode) {
 		this.authenticationServiceMode = authenticationServiceMode;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -1633,6 +1802,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -1644,6 +1814,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -1665,6 +1836,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -1676,6 +1848,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -1697,6 +1870,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -1708,6 +1882,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -1729,6 +1904,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -1740,6 +1916,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -1761,6 +1938,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalAssociations(Long totalAssociations) {
 		this.totalAssociations = totalAssociations;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -1772,6 +1950,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalAssociations(Long totalAssociations) {
 		this.totalAssociations = totalAssociations;
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -1781,10 +1960,20 @@ Ranges in the form "n-m" are permitted.
 	 * @return the value
 	 */
 	public Collection<AssociatedDevice> getAssociatedDevices() {
-		if (this.associatedDevices == null){ this.associatedDevices=new ArrayList<>();}
+		if (!(this.associatedDevices instanceof InstanceTable)){ this.associatedDevices=InstanceTable.of(this.associatedDevices);}
 		return associatedDevices;
 	}
 
+	/**
+	 * Get a table of the devices currently associated with the access point.  The size of this table is given by {{param|InternetGatewayDevice.LANDevice.{i}.WLANConfiguration.{i}.TotalAssociations}}.  This object must be implemented for CPE that contain an 802.11 interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AssociatedDevice> viewAssociatedDevices() {
+		return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+	}
+
 	/**
 	 * Set a table of the devices currently associated with the access point.  The size of this table is given by {{param|InternetGatewayDevice.LANDevice.{i}.WLANConfiguration.{i}.TotalAssociations}}.  This object must be implemented for CPE that contain an 802.11 interface on the LAN side.
 	 *
@@ -1811,10 +2000,20 @@ Ranges in the form "n-m" are permitted.
 	 * @return the value
 	 */
 	public Collection<WEPKey> getWepKeies() {
-		if (this.wepKeies == null){ this.wepKeies=new ArrayList<>();}
+		if (!(this.wepKeies instanceof InstanceTable)){ this.wepKeies=InstanceTable.of(this.wepKeies);}
 		return wepKeies;
 	}
 
+	/**
+	 * Read the this is a table of WEP keys.  The size of this table is fixed with exactly 4 entries (with instance numbers 1 through 4).  This object must be implemented for CPE that contain an 802.11 interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WEPKey> viewWepKeies() {
+		return wepKeies == null ? Collections.emptyList() : wepKeies;
+	}
+
 	/**
 	 * Set the this is a table of WEP keys.  The size of this table is fixed with exactly 4 entries (with instance numbers 1 through 4).  This object must be implemented for CPE that contain an 802.11 interface on the LAN side.
 	 *
@@ -1841,10 +2040,20 @@ Ranges in the form "n-m" are permitted.
 	 * @return the value
 	 */
 	public Collection<PreSharedKey> getPreSharedKeies() {
-		if (this.preSharedKeies == null){ this.preSharedKeies=new ArrayList<>();}
+		if (!(this.preSharedKeies instanceof InstanceTable)){ this.preSharedKeies=InstanceTable.of(this.preSharedKeies);}
 		return preSharedKeies;
 	}
 
+	/**
+	 * Read the this is a table of preshared keys.  The size of this table is fixed with exactly 10 entries (with instance numbers 1 through 10).  This object must be implemented for CPE that contain an 802.11 interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PreSharedKey> viewPreSharedKeies() {
+		return preSharedKeies == null ? Collections.emptyList() : preSharedKeies;
+	}
+
 	/**
 	 * Set the this is a table of preshared keys.  The size of this table is fixed with exactly 10 entries (with instance numbers 1 through 10).  This object must be implemented for CPE that contain an 802.11 interface on the LAN side.
 	 *
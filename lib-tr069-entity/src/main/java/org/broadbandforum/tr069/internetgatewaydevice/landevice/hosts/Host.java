@@ -23,7 +23,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -91,6 +93,16 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	@XmlElement(name = "Active")
 	public Boolean active;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Host() {
 	}
 
@@ -113,6 +125,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public void  setIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -124,6 +137,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public Host withIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -145,6 +159,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public void  setAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -156,6 +171,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public Host withAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -177,6 +193,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public void  setLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -188,6 +205,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public Host withLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -209,6 +227,8 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -220,6 +240,8 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public Host withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -241,6 +263,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public void  setHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -252,6 +275,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public Host withHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -273,6 +297,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public void  setInterfaceType(String interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -284,6 +309,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public Host withInterfaceType(String interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -309,6 +335,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -322,6 +349,7 @@ The ability to list inactive hosts is Optional.  If the CPE includes inactive ho
 	 */
 	public Host withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains statistics for a USB LAN interface on a CPE device.
@@ -62,6 +63,11 @@ public class Stats {
 	@XmlElement(name = "CellsReceived")
 	public Long cellsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -84,6 +90,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class Stats {
 	 */
 	public void  setCellsSent(Long cellsSent) {
 		this.cellsSent = cellsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -159,6 +170,7 @@ public class Stats {
 	 */
 	public Stats withCellsSent(Long cellsSent) {
 		this.cellsSent = cellsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -180,6 +192,7 @@ public class Stats {
 	 */
 	public void  setCellsReceived(Long cellsReceived) {
 		this.cellsReceived = cellsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -191,6 +204,7 @@ public class Stats {
 	 */
 	public Stats withCellsReceived(Long cellsReceived) {
 		this.cellsReceived = cellsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -83,6 +85,16 @@ public class AssociatedDevice {
 	@Size(max = 256)
 	public String lastPMKId;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -105,6 +117,8 @@ public class AssociatedDevice {
 	 */
 	public void  setAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -116,6 +130,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -137,6 +153,7 @@ public class AssociatedDevice {
 	 */
 	public void  setAssociatedDeviceIPAddress(String associatedDeviceIPAddress) {
 		this.associatedDeviceIPAddress = associatedDeviceIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -148,6 +165,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAssociatedDeviceIPAddress(String associatedDeviceIPAddress) {
 		this.associatedDeviceIPAddress = associatedDeviceIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -169,6 +187,7 @@ public class AssociatedDevice {
 	 */
 	public void  setAssociatedDeviceAuthenticationState(Boolean associatedDeviceAuthenticationState) {
 		this.associatedDeviceAuthenticationState = associatedDeviceAuthenticationState;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -180,6 +199,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAssociatedDeviceAuthenticationState(Boolean associatedDeviceAuthenticationState) {
 		this.associatedDeviceAuthenticationState = associatedDeviceAuthenticationState;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -201,6 +221,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastRequestedUnicastCipher(String lastRequestedUnicastCipher) {
 		this.lastRequestedUnicastCipher = lastRequestedUnicastCipher;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -212,6 +233,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastRequestedUnicastCipher(String lastRequestedUnicastCipher) {
 		this.lastRequestedUnicastCipher = lastRequestedUnicastCipher;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -233,6 +255,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastRequestedMulticastCipher(String lastRequestedMulticastCipher) {
 		this.lastRequestedMulticastCipher = lastRequestedMulticastCipher;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -244,6 +267,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastRequestedMulticastCipher(String lastRequestedMulticastCipher) {
 		this.lastRequestedMulticastCipher = lastRequestedMulticastCipher;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -265,6 +289,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastPMKId(String lastPMKId) {
 		this.lastPMKId = lastPMKId;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -276,6 +301,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastPMKId(String lastPMKId) {
 		this.lastPMKId = lastPMKId;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
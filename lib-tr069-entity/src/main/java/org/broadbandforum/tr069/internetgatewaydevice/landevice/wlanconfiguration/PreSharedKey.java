@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -71,6 +72,11 @@ Note: The 802.11i standard specifies rules for generation of WEP keys from a pas
 	@CWMPParameter(access = "readWrite")
 	public MACAddress associatedDeviceMACAddress;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PreSharedKey() {
 	}
 
@@ -97,6 +103,7 @@ The first table entry contains the default ''PreSharedKey'' (''InternetGatewayDe
 	 */
 	public void  setPreSharedKey(String preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +117,7 @@ The first table entry contains the default ''PreSharedKey'' (''InternetGatewayDe
 	 */
 	public PreSharedKey withPreSharedKey(String preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +151,7 @@ Note: The 802.11i standard specifies rules for generation of WEP keys from a pas
 	 */
 	public void  setKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -160,6 +169,7 @@ Note: The 802.11i standard specifies rules for generation of WEP keys from a pas
 	 */
 	public PreSharedKey withKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -181,6 +191,7 @@ Note: The 802.11i standard specifies rules for generation of WEP keys from a pas
 	 */
 	public void  setAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -192,6 +203,7 @@ Note: The 802.11i standard specifies rules for generation of WEP keys from a pas
 	 */
 	public PreSharedKey withAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
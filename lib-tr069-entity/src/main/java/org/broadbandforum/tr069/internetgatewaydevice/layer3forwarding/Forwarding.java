@@ -24,7 +24,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Layer-3 forwarding table.
@@ -127,6 +129,16 @@ public class Forwarding {
 	@Size(min = 1, max = 1540)
 	public Long mtu;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Forwarding() {
 	}
 
@@ -149,6 +161,7 @@ public class Forwarding {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -160,6 +173,7 @@ public class Forwarding {
 	 */
 	public Forwarding withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -181,6 +195,7 @@ public class Forwarding {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -192,6 +207,7 @@ public class Forwarding {
 	 */
 	public Forwarding withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -213,6 +229,7 @@ public class Forwarding {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -224,6 +241,7 @@ public class Forwarding {
 	 */
 	public Forwarding withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -245,6 +263,8 @@ public class Forwarding {
 	 */
 	public void  setDestIPAddress(IPAddress destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -256,6 +276,8 @@ public class Forwarding {
 	 */
 	public Forwarding withDestIPAddress(IPAddress destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -277,6 +299,8 @@ public class Forwarding {
 	 */
 	public void  setDestSubnetMask(IPAddress destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -288,6 +312,8 @@ public class Forwarding {
 	 */
 	public Forwarding withDestSubnetMask(IPAddress destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -309,6 +335,8 @@ public class Forwarding {
 	 */
 	public void  setSourceIPAddress(IPAddress sourceIPAddress) {
 		this.sourceIPAddress = sourceIPAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -320,6 +348,8 @@ public class Forwarding {
 	 */
 	public Forwarding withSourceIPAddress(IPAddress sourceIPAddress) {
 		this.sourceIPAddress = sourceIPAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -341,6 +371,8 @@ public class Forwarding {
 	 */
 	public void  setSourceSubnetMask(IPAddress sourceSubnetMask) {
 		this.sourceSubnetMask = sourceSubnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -352,6 +384,8 @@ public class Forwarding {
 	 */
 	public Forwarding withSourceSubnetMask(IPAddress sourceSubnetMask) {
 		this.sourceSubnetMask = sourceSubnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -373,6 +407,7 @@ public class Forwarding {
 	 */
 	public void  setGatewayIPAddress(IPAddress gatewayIPAddress) {
 		this.gatewayIPAddress = gatewayIPAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -384,6 +419,7 @@ public class Forwarding {
 	 */
 	public Forwarding withGatewayIPAddress(IPAddress gatewayIPAddress) {
 		this.gatewayIPAddress = gatewayIPAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -405,6 +441,7 @@ public class Forwarding {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -416,6 +453,7 @@ public class Forwarding {
 	 */
 	public Forwarding with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -437,6 +475,7 @@ public class Forwarding {
 	 */
 	public void  setForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -448,6 +487,7 @@ public class Forwarding {
 	 */
 	public Forwarding withForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -469,6 +509,7 @@ public class Forwarding {
 	 */
 	public void  setMtu(Long mtu) {
 		this.mtu = mtu;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -480,6 +521,7 @@ public class Forwarding {
 	 */
 	public Forwarding withMtu(Long mtu) {
 		this.mtu = mtu;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr069.internetgatewaydevice.wandevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wancommoninterfaceconfig.Connection;
 
 	/**
@@ -132,6 +134,11 @@ public class WANCommonInterfaceConfig {
 	@XmlElement(name = "Connection")
 	public Collection<Connection> connections;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANCommonInterfaceConfig() {
 	}
 
@@ -154,6 +161,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setEnabledForInternet(Boolean enabledForInternet) {
 		this.enabledForInternet = enabledForInternet;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +173,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withEnabledForInternet(Boolean enabledForInternet) {
 		this.enabledForInternet = enabledForInternet;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -186,6 +195,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setWanAccessType(String wanAccessType) {
 		this.wanAccessType = wanAccessType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -197,6 +207,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withWanAccessType(String wanAccessType) {
 		this.wanAccessType = wanAccessType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -218,6 +229,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setLayer1UpstreamMaxBitRate(Long layer1UpstreamMaxBitRate) {
 		this.layer1UpstreamMaxBitRate = layer1UpstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +241,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withLayer1UpstreamMaxBitRate(Long layer1UpstreamMaxBitRate) {
 		this.layer1UpstreamMaxBitRate = layer1UpstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -250,6 +263,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setLayer1DownstreamMaxBitRate(Long layer1DownstreamMaxBitRate) {
 		this.layer1DownstreamMaxBitRate = layer1DownstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +275,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withLayer1DownstreamMaxBitRate(Long layer1DownstreamMaxBitRate) {
 		this.layer1DownstreamMaxBitRate = layer1DownstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +297,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setPhysicalLinkStatus(String physicalLinkStatus) {
 		this.physicalLinkStatus = physicalLinkStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +309,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withPhysicalLinkStatus(String physicalLinkStatus) {
 		this.physicalLinkStatus = physicalLinkStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +331,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setWanAccessProvider(String wanAccessProvider) {
 		this.wanAccessProvider = wanAccessProvider;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +343,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withWanAccessProvider(String wanAccessProvider) {
 		this.wanAccessProvider = wanAccessProvider;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -346,6 +365,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -357,6 +377,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -378,6 +399,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -389,6 +411,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -410,6 +433,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -421,6 +445,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -442,6 +467,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -453,6 +479,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -474,6 +501,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setMaximumActiveConnections(Long maximumActiveConnections) {
 		this.maximumActiveConnections = maximumActiveConnections;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -485,6 +513,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withMaximumActiveConnections(Long maximumActiveConnections) {
 		this.maximumActiveConnections = maximumActiveConnections;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -506,6 +535,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public void  setNumberOfActiveConnections(Long numberOfActiveConnections) {
 		this.numberOfActiveConnections = numberOfActiveConnections;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -517,6 +547,7 @@ public class WANCommonInterfaceConfig {
 	 */
 	public WANCommonInterfaceConfig withNumberOfActiveConnections(Long numberOfActiveConnections) {
 		this.numberOfActiveConnections = numberOfActiveConnections;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -526,10 +557,20 @@ public class WANCommonInterfaceConfig {
 	 * @return the value
 	 */
 	public Collection<Connection> getConnections() {
-		if (this.connections == null){ this.connections=new ArrayList<>();}
+		if (!(this.connections instanceof InstanceTable)){ this.connections=InstanceTable.of(this.connections);}
 		return connections;
 	}
 
+	/**
+	 * Get active connection table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Connection> viewConnections() {
+		return connections == null ? Collections.emptyList() : connections;
+	}
+
 	/**
 	 * Set active connection table.
 	 *
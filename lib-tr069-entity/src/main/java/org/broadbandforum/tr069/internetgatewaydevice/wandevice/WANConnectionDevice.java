@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr069.internetgatewaydevice.wandevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.WANATMF5LoopbackDiagnostics;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.WANDSLLinkConfig;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.WANEthernetLinkConfig;
@@ -204,10 +205,20 @@ public class WANConnectionDevice {
 	 * @return the value
 	 */
 	public Collection<WANIPConnection> getWanIPConnections() {
-		if (this.wanIPConnections == null){ this.wanIPConnections=new ArrayList<>();}
+		if (!(this.wanIPConnections instanceof InstanceTable)){ this.wanIPConnections=InstanceTable.of(this.wanIPConnections);}
 		return wanIPConnections;
 	}
 
+	/**
+	 * Read the this object enables configuration of IP connections on the WAN interface of a CPE.  This object is required for all ''WANConnectionDevice''s not employing PPP addressing, and must not be active for ''WANConnectionDevice''s that do employ PPP addressing.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WANIPConnection> viewWanIPConnections() {
+		return wanIPConnections == null ? Collections.emptyList() : wanIPConnections;
+	}
+
 	/**
 	 * Set the this object enables configuration of IP connections on the WAN interface of a CPE.  This object is required for all ''WANConnectionDevice''s not employing PPP addressing, and must not be active for ''WANConnectionDevice''s that do employ PPP addressing.
 	 *
@@ -234,10 +245,20 @@ public class WANConnectionDevice {
 	 * @return the value
 	 */
 	public Collection<WANPPPConnection> getWanPPPConnections() {
-		if (this.wanPPPConnections == null){ this.wanPPPConnections=new ArrayList<>();}
+		if (!(this.wanPPPConnections instanceof InstanceTable)){ this.wanPPPConnections=InstanceTable.of(this.wanPPPConnections);}
 		return wanPPPConnections;
 	}
 
+	/**
+	 * Read the this object enables configuration of PPP connections on the WAN interface of a CPE.  This object is required for all ''WANConnectionDevice''s that employ PPP addressing, and must not be active for ''WANConnectionDevice''s that do not employ PPP addressing.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WANPPPConnection> viewWanPPPConnections() {
+		return wanPPPConnections == null ? Collections.emptyList() : wanPPPConnections;
+	}
+
 	/**
 	 * Set the this object enables configuration of PPP connections on the WAN interface of a CPE.  This object is required for all ''WANConnectionDevice''s that employ PPP addressing, and must not be active for ''WANConnectionDevice''s that do not employ PPP addressing.
 	 *
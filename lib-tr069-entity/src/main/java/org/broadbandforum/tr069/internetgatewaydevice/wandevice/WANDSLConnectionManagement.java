@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr069.internetgatewaydevice.wandevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wandslconnectionmanagement.ConnectionService;
 
 	/**
@@ -54,10 +55,20 @@ public class WANDSLConnectionManagement {
 	 * @return the value
 	 */
 	public Collection<ConnectionService> getConnectionServices() {
-		if (this.connectionServices == null){ this.connectionServices=new ArrayList<>();}
+		if (!(this.connectionServices instanceof InstanceTable)){ this.connectionServices=InstanceTable.of(this.connectionServices);}
 		return connectionServices;
 	}
 
+	/**
+	 * Read the this table contains an entry for each connection service.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ConnectionService> viewConnectionServices() {
+		return connectionServices == null ? Collections.emptyList() : connectionServices;
+	}
+
 	/**
 	 * Set the this table contains an entry for each connection service.
 	 *
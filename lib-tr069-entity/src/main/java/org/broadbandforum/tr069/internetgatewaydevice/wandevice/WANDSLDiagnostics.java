@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is required for a CPE with an ADSL2 or ADSL2+ modem WAN interface, and optional otherwise.
@@ -119,6 +120,11 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	@XmlElement(name = "GAINSpsds")
 	public Integer gaiNSpsds;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANDSLDiagnostics() {
 	}
 
@@ -153,6 +159,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setLoopDiagnosticsState(String loopDiagnosticsState) {
 		this.loopDiagnosticsState = loopDiagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -170,6 +177,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withLoopDiagnosticsState(String loopDiagnosticsState) {
 		this.loopDiagnosticsState = loopDiagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -191,6 +199,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setActPSDds(Integer actPSDds) {
 		this.actPSDds = actPSDds;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -202,6 +211,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withActPSDds(Integer actPSDds) {
 		this.actPSDds = actPSDds;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -223,6 +233,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setActPSDus(Integer actPSDus) {
 		this.actPSDus = actPSDus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -234,6 +245,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withActPSDus(Integer actPSDus) {
 		this.actPSDus = actPSDus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -255,6 +267,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setActATPds(Integer actATPds) {
 		this.actATPds = actATPds;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -266,6 +279,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withActATPds(Integer actATPds) {
 		this.actATPds = actATPds;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -287,6 +301,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setActATPus(Integer actATPus) {
 		this.actATPus = actATPus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -298,6 +313,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withActATPus(Integer actATPus) {
 		this.actATPus = actATPus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -319,6 +335,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setHliNSCds(Integer hliNSCds) {
 		this.hliNSCds = hliNSCds;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -330,6 +347,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withHliNSCds(Integer hliNSCds) {
 		this.hliNSCds = hliNSCds;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -351,6 +369,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setHliNpsds(Integer hliNpsds) {
 		this.hliNpsds = hliNpsds;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -362,6 +381,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withHliNpsds(Integer hliNpsds) {
 		this.hliNpsds = hliNpsds;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -383,6 +403,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -394,6 +415,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -415,6 +437,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -426,6 +449,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -447,6 +471,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setBitSpsds(Integer bitSpsds) {
 		this.bitSpsds = bitSpsds;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -458,6 +483,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withBitSpsds(Integer bitSpsds) {
 		this.bitSpsds = bitSpsds;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -479,6 +505,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public void  setGaiNSpsds(Integer gaiNSpsds) {
 		this.gaiNSpsds = gaiNSpsds;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -490,6 +517,7 @@ When the diagnostic initiated by the ACS is completed, the CPE MUST establish a
 	 */
 	public WANDSLDiagnostics withGaiNSpsds(Integer gaiNSpsds) {
 		this.gaiNSpsds = gaiNSpsds;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wandslinterfaceconfig.Stats;
 
 	/**
@@ -268,6 +269,11 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANDSLInterfaceConfig() {
 	}
 
@@ -290,6 +296,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -301,6 +308,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -322,6 +330,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -333,6 +342,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -354,6 +364,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -365,6 +376,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -386,6 +398,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setLineEncoding(String lineEncoding) {
 		this.lineEncoding = lineEncoding;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -397,6 +410,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withLineEncoding(String lineEncoding) {
 		this.lineEncoding = lineEncoding;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -418,6 +432,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setDataPath(String dataPath) {
 		this.dataPath = dataPath;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -429,6 +444,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withDataPath(String dataPath) {
 		this.dataPath = dataPath;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -450,6 +466,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setInterleaveDepth(Long interleaveDepth) {
 		this.interleaveDepth = interleaveDepth;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -461,6 +478,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withInterleaveDepth(Long interleaveDepth) {
 		this.interleaveDepth = interleaveDepth;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -482,6 +500,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setLineNumber(Integer lineNumber) {
 		this.lineNumber = lineNumber;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -493,6 +512,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withLineNumber(Integer lineNumber) {
 		this.lineNumber = lineNumber;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -514,6 +534,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setUpstreamCurrRate(Long upstreamCurrRate) {
 		this.upstreamCurrRate = upstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -525,6 +546,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withUpstreamCurrRate(Long upstreamCurrRate) {
 		this.upstreamCurrRate = upstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -546,6 +568,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setDownstreamCurrRate(Long downstreamCurrRate) {
 		this.downstreamCurrRate = downstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -557,6 +580,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withDownstreamCurrRate(Long downstreamCurrRate) {
 		this.downstreamCurrRate = downstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -578,6 +602,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setUpstreamMaxRate(Long upstreamMaxRate) {
 		this.upstreamMaxRate = upstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -589,6 +614,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withUpstreamMaxRate(Long upstreamMaxRate) {
 		this.upstreamMaxRate = upstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -610,6 +636,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setDownstreamMaxRate(Long downstreamMaxRate) {
 		this.downstreamMaxRate = downstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -621,6 +648,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withDownstreamMaxRate(Long downstreamMaxRate) {
 		this.downstreamMaxRate = downstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -642,6 +670,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setUpstreamNoiseMargin(Integer upstreamNoiseMargin) {
 		this.upstreamNoiseMargin = upstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -653,6 +682,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withUpstreamNoiseMargin(Integer upstreamNoiseMargin) {
 		this.upstreamNoiseMargin = upstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -674,6 +704,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setDownstreamNoiseMargin(Integer downstreamNoiseMargin) {
 		this.downstreamNoiseMargin = downstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -685,6 +716,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withDownstreamNoiseMargin(Integer downstreamNoiseMargin) {
 		this.downstreamNoiseMargin = downstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -706,6 +738,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setUpstreamAttenuation(Integer upstreamAttenuation) {
 		this.upstreamAttenuation = upstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -717,6 +750,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withUpstreamAttenuation(Integer upstreamAttenuation) {
 		this.upstreamAttenuation = upstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -738,6 +772,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setDownstreamAttenuation(Integer downstreamAttenuation) {
 		this.downstreamAttenuation = downstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -749,6 +784,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withDownstreamAttenuation(Integer downstreamAttenuation) {
 		this.downstreamAttenuation = downstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -770,6 +806,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setUpstreamPower(Integer upstreamPower) {
 		this.upstreamPower = upstreamPower;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -781,6 +818,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withUpstreamPower(Integer upstreamPower) {
 		this.upstreamPower = upstreamPower;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -802,6 +840,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setDownstreamPower(Integer downstreamPower) {
 		this.downstreamPower = downstreamPower;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -813,6 +852,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withDownstreamPower(Integer downstreamPower) {
 		this.downstreamPower = downstreamPower;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -834,6 +874,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuRVendor(String atuRVendor) {
 		this.atuRVendor = atuRVendor;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -845,6 +886,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuRVendor(String atuRVendor) {
 		this.atuRVendor = atuRVendor;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -866,6 +908,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuRCountry(Long atuRCountry) {
 		this.atuRCountry = atuRCountry;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -877,6 +920,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuRCountry(Long atuRCountry) {
 		this.atuRCountry = atuRCountry;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -898,6 +942,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuRANSIStd(Long atuRANSIStd) {
 		this.atuRANSIStd = atuRANSIStd;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -909,6 +954,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuRANSIStd(Long atuRANSIStd) {
 		this.atuRANSIStd = atuRANSIStd;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -930,6 +976,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuRANSIRev(Long atuRANSIRev) {
 		this.atuRANSIRev = atuRANSIRev;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -941,6 +988,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuRANSIRev(Long atuRANSIRev) {
 		this.atuRANSIRev = atuRANSIRev;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -962,6 +1010,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuCVendor(String atuCVendor) {
 		this.atuCVendor = atuCVendor;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -973,6 +1022,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuCVendor(String atuCVendor) {
 		this.atuCVendor = atuCVendor;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -994,6 +1044,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuCCountry(Long atuCCountry) {
 		this.atuCCountry = atuCCountry;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1005,6 +1056,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuCCountry(Long atuCCountry) {
 		this.atuCCountry = atuCCountry;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1026,6 +1078,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuCANSIStd(Long atuCANSIStd) {
 		this.atuCANSIStd = atuCANSIStd;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1037,6 +1090,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuCANSIStd(Long atuCANSIStd) {
 		this.atuCANSIStd = atuCANSIStd;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1058,6 +1112,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAtuCANSIRev(Long atuCANSIRev) {
 		this.atuCANSIRev = atuCANSIRev;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1069,6 +1124,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withAtuCANSIRev(Long atuCANSIRev) {
 		this.atuCANSIRev = atuCANSIRev;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1094,6 +1150,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1107,6 +1164,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1128,6 +1186,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setShowtimeStart(Long showtimeStart) {
 		this.showtimeStart = showtimeStart;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1139,6 +1198,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withShowtimeStart(Long showtimeStart) {
 		this.showtimeStart = showtimeStart;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1164,6 +1224,7 @@ If the CPE has not retained information about the second most recent Showtime (e
 	 */
 	public void  setLastShowtimeStart(Long lastShowtimeStart) {
 		this.lastShowtimeStart = lastShowtimeStart;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1177,6 +1238,7 @@ If the CPE has not retained information about the second most recent Showtime (e
 	 */
 	public WANDSLInterfaceConfig withLastShowtimeStart(Long lastShowtimeStart) {
 		this.lastShowtimeStart = lastShowtimeStart;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1206,6 +1268,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1221,6 +1284,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1250,6 +1314,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1265,6 +1330,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public WANDSLInterfaceConfig withQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
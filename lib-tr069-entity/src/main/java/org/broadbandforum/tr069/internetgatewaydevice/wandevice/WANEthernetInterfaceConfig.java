@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanethernetinterfaceconfig.Stats;
 
@@ -80,6 +81,11 @@ public class WANEthernetInterfaceConfig {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANEthernetInterfaceConfig() {
 	}
 
@@ -102,6 +108,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +120,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public WANEthernetInterfaceConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -134,6 +142,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -145,6 +154,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public WANEthernetInterfaceConfig withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -166,6 +176,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -177,6 +188,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public WANEthernetInterfaceConfig withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -198,6 +210,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public void  setMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -209,6 +222,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public WANEthernetInterfaceConfig withMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -230,6 +244,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public void  setDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -241,6 +256,7 @@ public class WANEthernetInterfaceConfig {
 	 */
 	public WANEthernetInterfaceConfig withDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
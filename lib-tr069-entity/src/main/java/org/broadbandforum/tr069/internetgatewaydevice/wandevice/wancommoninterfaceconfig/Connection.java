@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Active connection table.
@@ -52,6 +54,16 @@ public class Connection {
 	@Size(max = 256)
 	public String activeConnectionServiceID;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Connection() {
 	}
 
@@ -74,6 +86,7 @@ public class Connection {
 	 */
 	public void  setActiveConnectionDeviceContainer(String activeConnectionDeviceContainer) {
 		this.activeConnectionDeviceContainer = activeConnectionDeviceContainer;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -85,6 +98,7 @@ public class Connection {
 	 */
 	public Connection withActiveConnectionDeviceContainer(String activeConnectionDeviceContainer) {
 		this.activeConnectionDeviceContainer = activeConnectionDeviceContainer;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -106,6 +120,8 @@ public class Connection {
 	 */
 	public void  setActiveConnectionServiceID(String activeConnectionServiceID) {
 		this.activeConnectionServiceID = activeConnectionServiceID;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -117,6 +133,8 @@ public class Connection {
 	 */
 	public Connection withActiveConnectionServiceID(String activeConnectionServiceID) {
 		this.activeConnectionServiceID = activeConnectionServiceID;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is provides access to an ATM-layer F5 OAM loopback test.
@@ -103,6 +104,11 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	@XmlElement(name = "MaximumResponseTime")
 	public Long maximumResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANATMF5LoopbackDiagnostics() {
 	}
 
@@ -137,6 +143,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -154,6 +161,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -175,6 +183,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -186,6 +195,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -207,6 +217,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -218,6 +229,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -239,6 +251,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -250,6 +263,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -271,6 +285,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -282,6 +297,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -303,6 +319,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -314,6 +331,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -335,6 +353,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -346,6 +365,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -367,6 +387,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -378,6 +399,7 @@ When the diagnostic initiated by the ACS is completed (successfully or not), the
 	 */
 	public WANATMF5LoopbackDiagnostics withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectionde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object models the ATM layer properties specific to a single physical connection of a DSL modem used for Internet access on a CPE.  This object is required for a CPE with a DSL modem WAN interface, and is exclusive of any other ''WAN*LinkConfig'' object within a given ''WANConnectionDevice'' instance.
@@ -196,6 +198,11 @@ Example:
 	@XmlElement(name = "ATMHECErrors")
 	public Long atmHECErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANDSLLinkConfig() {
 	}
 
@@ -218,6 +225,7 @@ Example:
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -229,6 +237,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -250,6 +259,7 @@ Example:
 	 */
 	public void  setLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -261,6 +271,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -282,6 +293,7 @@ Example:
 	 */
 	public void  setLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -293,6 +305,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -314,6 +327,7 @@ Example:
 	 */
 	public void  setAutoConfig(Boolean autoConfig) {
 		this.autoConfig = autoConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -325,6 +339,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAutoConfig(Boolean autoConfig) {
 		this.autoConfig = autoConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -346,6 +361,7 @@ Example:
 	 */
 	public void  setModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -357,6 +373,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -390,6 +407,7 @@ Example:
 	 */
 	public void  setDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -407,6 +425,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -428,6 +447,7 @@ Example:
 	 */
 	public void  setAtmEncapsulation(String atmEncapsulation) {
 		this.atmEncapsulation = atmEncapsulation;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -439,6 +459,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmEncapsulation(String atmEncapsulation) {
 		this.atmEncapsulation = atmEncapsulation;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -460,6 +481,7 @@ Example:
 	 */
 	public void  setFcsPreserved(Boolean fcsPreserved) {
 		this.fcsPreserved = fcsPreserved;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -471,6 +493,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withFcsPreserved(Boolean fcsPreserved) {
 		this.fcsPreserved = fcsPreserved;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -491,6 +514,23 @@ Example:
 		return vcsearchList;
 	}
 
+	/**
+	 * Read the comma separated ordered list of VPI/VCI pairs to search if a link using the {{param|DestinationAddress}} cannot be established.  In the form:
+
+: ''VPI1/VCI1, VPI2/VCI2, ...''
+
+Example:
+
+: ''0/35, 8/35, 1/35''
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVcsearchList() {
+		return vcsearchList == null ? Collections.emptyList() : vcsearchList;
+	}
+
 	/**
 	 * Set the comma separated ordered list of VPI/VCI pairs to search if a link using the {{param|DestinationAddress}} cannot be established.  In the form:
 
@@ -505,6 +545,7 @@ Example:
 	 */
 	public void  setVcsearchList(Collection<String> vcsearchList) {
 		this.vcsearchList = vcsearchList;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -522,6 +563,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withVcsearchList(String string) {
 		getVcsearchList().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -543,6 +585,7 @@ Example:
 	 */
 	public void  setAtmAAL(String atmAAL) {
 		this.atmAAL = atmAAL;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -554,6 +597,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmAAL(String atmAAL) {
 		this.atmAAL = atmAAL;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -575,6 +619,7 @@ Example:
 	 */
 	public void  setAtmTransmittedBlocks(Long atmTransmittedBlocks) {
 		this.atmTransmittedBlocks = atmTransmittedBlocks;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -586,6 +631,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmTransmittedBlocks(Long atmTransmittedBlocks) {
 		this.atmTransmittedBlocks = atmTransmittedBlocks;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -607,6 +653,7 @@ Example:
 	 */
 	public void  setAtmReceivedBlocks(Long atmReceivedBlocks) {
 		this.atmReceivedBlocks = atmReceivedBlocks;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -618,6 +665,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmReceivedBlocks(Long atmReceivedBlocks) {
 		this.atmReceivedBlocks = atmReceivedBlocks;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -639,6 +687,7 @@ Example:
 	 */
 	public void  setAtmQoS(String atmQoS) {
 		this.atmQoS = atmQoS;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -650,6 +699,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmQoS(String atmQoS) {
 		this.atmQoS = atmQoS;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -671,6 +721,7 @@ Example:
 	 */
 	public void  setAtmPeakCellRate(Long atmPeakCellRate) {
 		this.atmPeakCellRate = atmPeakCellRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -682,6 +733,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmPeakCellRate(Long atmPeakCellRate) {
 		this.atmPeakCellRate = atmPeakCellRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -703,6 +755,7 @@ Example:
 	 */
 	public void  setAtmMaximumBurstSize(Long atmMaximumBurstSize) {
 		this.atmMaximumBurstSize = atmMaximumBurstSize;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -714,6 +767,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmMaximumBurstSize(Long atmMaximumBurstSize) {
 		this.atmMaximumBurstSize = atmMaximumBurstSize;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -735,6 +789,7 @@ Example:
 	 */
 	public void  setAtmSustainableCellRate(Long atmSustainableCellRate) {
 		this.atmSustainableCellRate = atmSustainableCellRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -746,6 +801,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmSustainableCellRate(Long atmSustainableCellRate) {
 		this.atmSustainableCellRate = atmSustainableCellRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -767,6 +823,7 @@ Example:
 	 */
 	public void  setAal5CRCErrors(Long aal5CRCErrors) {
 		this.aal5CRCErrors = aal5CRCErrors;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -778,6 +835,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAal5CRCErrors(Long aal5CRCErrors) {
 		this.aal5CRCErrors = aal5CRCErrors;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -799,6 +857,7 @@ Example:
 	 */
 	public void  setAtmCRCErrors(Long atmCRCErrors) {
 		this.atmCRCErrors = atmCRCErrors;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -810,6 +869,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmCRCErrors(Long atmCRCErrors) {
 		this.atmCRCErrors = atmCRCErrors;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -831,6 +891,7 @@ Example:
 	 */
 	public void  setAtmHECErrors(Long atmHECErrors) {
 		this.atmHECErrors = atmHECErrors;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -842,6 +903,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmHECErrors(Long atmHECErrors) {
 		this.atmHECErrors = atmHECErrors;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
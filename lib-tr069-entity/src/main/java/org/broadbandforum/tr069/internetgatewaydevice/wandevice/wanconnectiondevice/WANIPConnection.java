@@ -17,6 +17,7 @@ package org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectionde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +29,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.wanipconnection.PortMapping;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.wanipconnection.Stats;
@@ -249,6 +252,16 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public WANIPConnection() {
 	}
 
@@ -271,6 +284,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -282,6 +296,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -303,6 +318,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -314,6 +330,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -328,6 +345,17 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 		return possibleConnectionTypes;
 	}
 
+	/**
+	 * Read the types of connections possible for this connection instance.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleConnectionTypes() {
+		return possibleConnectionTypes == null ? Collections.emptyList() : possibleConnectionTypes;
+	}
+
 	/**
 	 * Set the types of connections possible for this connection instance.
 	 *
@@ -336,6 +364,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPossibleConnectionTypes(Collection<String> possibleConnectionTypes) {
 		this.possibleConnectionTypes = possibleConnectionTypes;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -347,6 +376,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withPossibleConnectionTypes(String string) {
 		getPossibleConnectionTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -368,6 +398,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -379,6 +410,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -400,6 +432,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -411,6 +444,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -432,6 +466,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -443,6 +478,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -464,6 +500,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -475,6 +512,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -496,6 +534,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -507,6 +546,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -528,6 +568,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -539,6 +580,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -560,6 +602,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -571,6 +614,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -592,6 +636,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -603,6 +648,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -624,6 +670,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -635,6 +682,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -656,6 +704,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -667,6 +716,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -688,6 +738,8 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -699,6 +751,8 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -720,6 +774,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -731,6 +786,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -752,6 +808,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setDefaultGateway(String defaultGateway) {
 		this.defaultGateway = defaultGateway;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -763,6 +820,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withDefaultGateway(String defaultGateway) {
 		this.defaultGateway = defaultGateway;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -784,6 +842,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -795,6 +854,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -816,6 +876,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -827,6 +888,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -848,6 +910,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -859,6 +922,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -880,6 +944,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setMaxMTUSize(Long maxMTUSize) {
 		this.maxMTUSize = maxMTUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -891,6 +956,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withMaxMTUSize(Long maxMTUSize) {
 		this.maxMTUSize = maxMTUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -912,6 +978,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -923,6 +990,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -944,6 +1012,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -955,6 +1024,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -976,6 +1046,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -987,6 +1058,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1008,6 +1080,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1019,6 +1092,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANIPConnection withRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1028,10 +1102,20 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 * @return the value
 	 */
 	public Collection<PortMapping> getPortMappings() {
-		if (this.portMappings == null){ this.portMappings=new ArrayList<>();}
+		if (!(this.portMappings instanceof InstanceTable)){ this.portMappings=InstanceTable.of(this.portMappings);}
 		return portMappings;
 	}
 
+	/**
+	 * Read the port mapping table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PortMapping> viewPortMappings() {
+		return portMappings == null ? Collections.emptyList() : portMappings;
+	}
+
 	/**
 	 * Set the port mapping table.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectionde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +29,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.wanpppconnection.PortMapping;
 import org.broadbandforum.tr069.internetgatewaydevice.wandevice.wanconnectiondevice.wanpppconnection.Stats;
@@ -317,6 +320,16 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public WANPPPConnection() {
 	}
 
@@ -339,6 +352,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -350,6 +364,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -371,6 +386,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -382,6 +398,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -396,6 +413,17 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 		return possibleConnectionTypes;
 	}
 
+	/**
+	 * Read the types of connections possible for this connection instance.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleConnectionTypes() {
+		return possibleConnectionTypes == null ? Collections.emptyList() : possibleConnectionTypes;
+	}
+
 	/**
 	 * Set the types of connections possible for this connection instance.
 	 *
@@ -404,6 +432,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPossibleConnectionTypes(Collection<String> possibleConnectionTypes) {
 		this.possibleConnectionTypes = possibleConnectionTypes;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -415,6 +444,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPossibleConnectionTypes(String string) {
 		getPossibleConnectionTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -436,6 +466,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -447,6 +478,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -468,6 +500,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -479,6 +512,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -500,6 +534,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -511,6 +546,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -532,6 +568,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -543,6 +580,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -564,6 +602,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -575,6 +614,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -596,6 +636,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -607,6 +648,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -628,6 +670,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -639,6 +682,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -660,6 +704,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -671,6 +716,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -692,6 +738,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -703,6 +750,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -724,6 +772,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -735,6 +784,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -756,6 +806,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -767,6 +818,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -788,6 +840,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPppEncryptionProtocol(String pppEncryptionProtocol) {
 		this.pppEncryptionProtocol = pppEncryptionProtocol;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -799,6 +852,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPppEncryptionProtocol(String pppEncryptionProtocol) {
 		this.pppEncryptionProtocol = pppEncryptionProtocol;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -820,6 +874,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPppCompressionProtocol(String pppCompressionProtocol) {
 		this.pppCompressionProtocol = pppCompressionProtocol;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -831,6 +886,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPppCompressionProtocol(String pppCompressionProtocol) {
 		this.pppCompressionProtocol = pppCompressionProtocol;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -852,6 +908,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPppAuthenticationProtocol(String pppAuthenticationProtocol) {
 		this.pppAuthenticationProtocol = pppAuthenticationProtocol;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -863,6 +920,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPppAuthenticationProtocol(String pppAuthenticationProtocol) {
 		this.pppAuthenticationProtocol = pppAuthenticationProtocol;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -884,6 +942,8 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(17);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -895,6 +955,8 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(17);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -916,6 +978,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setRemoteIPAddress(IPAddress remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -927,6 +990,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withRemoteIPAddress(IPAddress remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -948,6 +1012,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setMaxMRUSize(Long maxMRUSize) {
 		this.maxMRUSize = maxMRUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -959,6 +1024,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withMaxMRUSize(Long maxMRUSize) {
 		this.maxMRUSize = maxMRUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -980,6 +1046,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setCurrentMRUSize(Long currentMRUSize) {
 		this.currentMRUSize = currentMRUSize;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -991,6 +1058,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withCurrentMRUSize(Long currentMRUSize) {
 		this.currentMRUSize = currentMRUSize;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1012,6 +1080,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1023,6 +1092,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1044,6 +1114,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1055,6 +1126,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1076,6 +1148,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1087,6 +1160,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1108,6 +1182,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1119,6 +1194,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1140,6 +1216,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1151,6 +1228,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1172,6 +1250,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setTransportType(String transportType) {
 		this.transportType = transportType;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1183,6 +1262,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withTransportType(String transportType) {
 		this.transportType = transportType;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1204,6 +1284,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPppoEACName(String pppoEACName) {
 		this.pppoEACName = pppoEACName;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1215,6 +1296,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPppoEACName(String pppoEACName) {
 		this.pppoEACName = pppoEACName;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1236,6 +1318,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPppoEServiceName(String pppoEServiceName) {
 		this.pppoEServiceName = pppoEServiceName;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1247,6 +1330,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPppoEServiceName(String pppoEServiceName) {
 		this.pppoEServiceName = pppoEServiceName;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1268,6 +1352,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1279,6 +1364,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1300,6 +1386,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1311,6 +1398,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1332,6 +1420,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPppLCPEcho(Long pppLCPEcho) {
 		this.pppLCPEcho = pppLCPEcho;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1343,6 +1432,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPppLCPEcho(Long pppLCPEcho) {
 		this.pppLCPEcho = pppLCPEcho;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1364,6 +1454,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public void  setPppLCPEchoRetry(Long pppLCPEchoRetry) {
 		this.pppLCPEchoRetry = pppLCPEchoRetry;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1375,6 +1466,7 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 */
 	public WANPPPConnection withPppLCPEchoRetry(Long pppLCPEchoRetry) {
 		this.pppLCPEchoRetry = pppLCPEchoRetry;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1384,10 +1476,20 @@ This object is required for all ''WANConnectionDevice''s that can support an Eth
 	 * @return the value
 	 */
 	public Collection<PortMapping> getPortMappings() {
-		if (this.portMappings == null){ this.portMappings=new ArrayList<>();}
+		if (!(this.portMappings instanceof InstanceTable)){ this.portMappings=InstanceTable.of(this.portMappings);}
 		return portMappings;
 	}
 
+	/**
+	 * Read the port mapping table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PortMapping> viewPortMappings() {
+		return portMappings == null ? Collections.emptyList() : portMappings;
+	}
+
 	/**
 	 * Set the port mapping table.
 	 *
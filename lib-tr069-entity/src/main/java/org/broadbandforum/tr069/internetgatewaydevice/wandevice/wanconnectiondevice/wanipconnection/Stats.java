@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains statistics for all connections within the same ''WANConnectionDevice'' that share a common MAC address.  The contents of this object should be identical for each such connection.
@@ -64,6 +65,11 @@ public class Stats {
 	@XmlElement(name = "EthernetPacketsReceived")
 	public Long ethernetPacketsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -86,6 +92,7 @@ public class Stats {
 	 */
 	public void  setEthernetBytesSent(Long ethernetBytesSent) {
 		this.ethernetBytesSent = ethernetBytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -97,6 +104,7 @@ public class Stats {
 	 */
 	public Stats withEthernetBytesSent(Long ethernetBytesSent) {
 		this.ethernetBytesSent = ethernetBytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -118,6 +126,7 @@ public class Stats {
 	 */
 	public void  setEthernetBytesReceived(Long ethernetBytesReceived) {
 		this.ethernetBytesReceived = ethernetBytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -129,6 +138,7 @@ public class Stats {
 	 */
 	public Stats withEthernetBytesReceived(Long ethernetBytesReceived) {
 		this.ethernetBytesReceived = ethernetBytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -150,6 +160,7 @@ public class Stats {
 	 */
 	public void  setEthernetPacketsSent(Long ethernetPacketsSent) {
 		this.ethernetPacketsSent = ethernetPacketsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -161,6 +172,7 @@ public class Stats {
 	 */
 	public Stats withEthernetPacketsSent(Long ethernetPacketsSent) {
 		this.ethernetPacketsSent = ethernetPacketsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -182,6 +194,7 @@ public class Stats {
 	 */
 	public void  setEthernetPacketsReceived(Long ethernetPacketsReceived) {
 		this.ethernetPacketsReceived = ethernetPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -193,6 +206,7 @@ public class Stats {
 	 */
 	public Stats withEthernetPacketsReceived(Long ethernetPacketsReceived) {
 		this.ethernetPacketsReceived = ethernetPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
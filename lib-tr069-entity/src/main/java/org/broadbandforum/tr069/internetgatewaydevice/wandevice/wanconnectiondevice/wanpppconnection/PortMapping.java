@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Port mapping table.
@@ -114,6 +116,16 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	@Size(max = 256)
 	public String portMappingDescription;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PortMapping() {
 	}
 
@@ -136,6 +148,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public void  setPortMappingEnabled(Boolean portMappingEnabled) {
 		this.portMappingEnabled = portMappingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -147,6 +160,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public PortMapping withPortMappingEnabled(Boolean portMappingEnabled) {
 		this.portMappingEnabled = portMappingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -168,6 +182,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public void  setPortMappingLeaseDuration(Long portMappingLeaseDuration) {
 		this.portMappingLeaseDuration = portMappingLeaseDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -179,6 +194,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public PortMapping withPortMappingLeaseDuration(Long portMappingLeaseDuration) {
 		this.portMappingLeaseDuration = portMappingLeaseDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -208,6 +224,8 @@ When {{param|RemoteHost}} is specified as one external IP address, the NAT will
 	 */
 	public void  setRemoteHost(String remoteHost) {
 		this.remoteHost = remoteHost;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -223,6 +241,8 @@ When {{param|RemoteHost}} is specified as one external IP address, the NAT will
 	 */
 	public PortMapping withRemoteHost(String remoteHost) {
 		this.remoteHost = remoteHost;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -248,6 +268,8 @@ A value of zero (0) represents a "wildcard".  If this value is a wildcard, conne
 	 */
 	public void  setExternalPort(Long externalPort) {
 		this.externalPort = externalPort;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -261,6 +283,8 @@ A value of zero (0) represents a "wildcard".  If this value is a wildcard, conne
 	 */
 	public PortMapping withExternalPort(Long externalPort) {
 		this.externalPort = externalPort;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -282,6 +306,7 @@ A value of zero (0) represents a "wildcard".  If this value is a wildcard, conne
 	 */
 	public void  setInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +318,7 @@ A value of zero (0) represents a "wildcard".  If this value is a wildcard, conne
 	 */
 	public PortMapping withInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +340,8 @@ A value of zero (0) represents a "wildcard".  If this value is a wildcard, conne
 	 */
 	public void  setPortMappingProtocol(String portMappingProtocol) {
 		this.portMappingProtocol = portMappingProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -325,6 +353,8 @@ A value of zero (0) represents a "wildcard".  If this value is a wildcard, conne
 	 */
 	public PortMapping withPortMappingProtocol(String portMappingProtocol) {
 		this.portMappingProtocol = portMappingProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -358,6 +388,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public void  setInternalClient(String internalClient) {
 		this.internalClient = internalClient;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -375,6 +406,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public PortMapping withInternalClient(String internalClient) {
 		this.internalClient = internalClient;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -396,6 +428,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public void  setPortMappingDescription(String portMappingDescription) {
 		this.portMappingDescription = portMappingDescription;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -407,6 +440,7 @@ It must be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public PortMapping withPortMappingDescription(String portMappingDescription) {
 		this.portMappingDescription = portMappingDescription;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
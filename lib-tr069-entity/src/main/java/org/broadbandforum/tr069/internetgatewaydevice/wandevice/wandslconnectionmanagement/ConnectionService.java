@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains an entry for each connection service.
@@ -88,6 +90,16 @@ public class ConnectionService {
 	@Size(max = 32)
 	public String name;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ConnectionService() {
 	}
 
@@ -110,6 +122,7 @@ public class ConnectionService {
 	 */
 	public void  setWanConnectionDevice(String wanConnectionDevice) {
 		this.wanConnectionDevice = wanConnectionDevice;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -121,6 +134,7 @@ public class ConnectionService {
 	 */
 	public ConnectionService withWanConnectionDevice(String wanConnectionDevice) {
 		this.wanConnectionDevice = wanConnectionDevice;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -142,6 +156,8 @@ public class ConnectionService {
 	 */
 	public void  setWanConnectionService(String wanConnectionService) {
 		this.wanConnectionService = wanConnectionService;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -153,6 +169,8 @@ public class ConnectionService {
 	 */
 	public ConnectionService withWanConnectionService(String wanConnectionService) {
 		this.wanConnectionService = wanConnectionService;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -186,6 +204,7 @@ public class ConnectionService {
 	 */
 	public void  setDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -203,6 +222,7 @@ public class ConnectionService {
 	 */
 	public ConnectionService withDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -224,6 +244,7 @@ public class ConnectionService {
 	 */
 	public void  setLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -235,6 +256,7 @@ public class ConnectionService {
 	 */
 	public ConnectionService withLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -256,6 +278,7 @@ public class ConnectionService {
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -267,6 +290,7 @@ public class ConnectionService {
 	 */
 	public ConnectionService withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -288,6 +312,7 @@ public class ConnectionService {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -299,6 +324,7 @@ public class ConnectionService {
 	 */
 	public ConnectionService withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains DSL statistics accumulated during the current quarter hour.
@@ -139,6 +140,11 @@ public class QuarterHour {
 	@XmlElement(name = "ATUCCRCErrors")
 	public Long atuCCRCErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QuarterHour() {
 	}
 
@@ -161,6 +167,7 @@ public class QuarterHour {
 	 */
 	public void  setReceiveBlocks(Long receiveBlocks) {
 		this.receiveBlocks = receiveBlocks;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -172,6 +179,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withReceiveBlocks(Long receiveBlocks) {
 		this.receiveBlocks = receiveBlocks;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -193,6 +201,7 @@ public class QuarterHour {
 	 */
 	public void  setTransmitBlocks(Long transmitBlocks) {
 		this.transmitBlocks = transmitBlocks;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -204,6 +213,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withTransmitBlocks(Long transmitBlocks) {
 		this.transmitBlocks = transmitBlocks;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -225,6 +235,7 @@ public class QuarterHour {
 	 */
 	public void  setCellDelin(Long cellDelin) {
 		this.cellDelin = cellDelin;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -236,6 +247,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withCellDelin(Long cellDelin) {
 		this.cellDelin = cellDelin;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -257,6 +269,7 @@ public class QuarterHour {
 	 */
 	public void  setLinkRetrain(Long linkRetrain) {
 		this.linkRetrain = linkRetrain;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -268,6 +281,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withLinkRetrain(Long linkRetrain) {
 		this.linkRetrain = linkRetrain;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -289,6 +303,7 @@ public class QuarterHour {
 	 */
 	public void  setInitErrors(Long initErrors) {
 		this.initErrors = initErrors;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -300,6 +315,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withInitErrors(Long initErrors) {
 		this.initErrors = initErrors;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -321,6 +337,7 @@ public class QuarterHour {
 	 */
 	public void  setInitTimeouts(Long initTimeouts) {
 		this.initTimeouts = initTimeouts;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -332,6 +349,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withInitTimeouts(Long initTimeouts) {
 		this.initTimeouts = initTimeouts;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -353,6 +371,7 @@ public class QuarterHour {
 	 */
 	public void  setLossOfFraming(Long lossOfFraming) {
 		this.lossOfFraming = lossOfFraming;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -364,6 +383,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withLossOfFraming(Long lossOfFraming) {
 		this.lossOfFraming = lossOfFraming;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -385,6 +405,7 @@ public class QuarterHour {
 	 */
 	public void  setErroredSecs(Long erroredSecs) {
 		this.erroredSecs = erroredSecs;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -396,6 +417,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withErroredSecs(Long erroredSecs) {
 		this.erroredSecs = erroredSecs;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -417,6 +439,7 @@ public class QuarterHour {
 	 */
 	public void  setSeverelyErroredSecs(Long severelyErroredSecs) {
 		this.severelyErroredSecs = severelyErroredSecs;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -428,6 +451,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withSeverelyErroredSecs(Long severelyErroredSecs) {
 		this.severelyErroredSecs = severelyErroredSecs;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -449,6 +473,7 @@ public class QuarterHour {
 	 */
 	public void  setFecErrors(Long fecErrors) {
 		this.fecErrors = fecErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -460,6 +485,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withFecErrors(Long fecErrors) {
 		this.fecErrors = fecErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -481,6 +507,7 @@ public class QuarterHour {
 	 */
 	public void  setAtuCFECErrors(Long atuCFECErrors) {
 		this.atuCFECErrors = atuCFECErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -492,6 +519,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withAtuCFECErrors(Long atuCFECErrors) {
 		this.atuCFECErrors = atuCFECErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -513,6 +541,7 @@ public class QuarterHour {
 	 */
 	public void  setHecErrors(Long hecErrors) {
 		this.hecErrors = hecErrors;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -524,6 +553,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withHecErrors(Long hecErrors) {
 		this.hecErrors = hecErrors;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -545,6 +575,7 @@ public class QuarterHour {
 	 */
 	public void  setAtuCHECErrors(Long atuCHECErrors) {
 		this.atuCHECErrors = atuCHECErrors;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -556,6 +587,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withAtuCHECErrors(Long atuCHECErrors) {
 		this.atuCHECErrors = atuCHECErrors;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -577,6 +609,7 @@ public class QuarterHour {
 	 */
 	public void  setCrcErrors(Long crcErrors) {
 		this.crcErrors = crcErrors;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -588,6 +621,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withCrcErrors(Long crcErrors) {
 		this.crcErrors = crcErrors;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -609,6 +643,7 @@ public class QuarterHour {
 	 */
 	public void  setAtuCCRCErrors(Long atuCCRCErrors) {
 		this.atuCCRCErrors = atuCCRCErrors;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -620,6 +655,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withAtuCCRCErrors(Long atuCCRCErrors) {
 		this.atuCCRCErrors = atuCCRCErrors;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr069;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.List;
+import org.broadbandforum.metamodel.TreeValidator;
+import org.broadbandforum.metamodel.Violation;
+import org.broadbandforum.tr069.internetgatewaydevice.DeviceConfig;
+import org.broadbandforum.tr069.internetgatewaydevice.DeviceInfo;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class TreeValidatorTest {
+
+  private final TreeValidator validator = TreeValidator.of(InternetGatewayDevice.class);
+
+  @Test
+  public void testValidTree() {
+    InternetGatewayDevice device = new InternetGatewayDevice()
+      .withDeviceInfo(new DeviceInfo().withManufacturer("Key Bridge").withManufacturerOUI("001A2B"));
+    assertTrue(validator.validate(device).isEmpty());
+  }
+
+  /**
+   * ConfigFile and DeviceLog carry an overflowed @Size(max = -32768), which
+   * does not bound the length.
+   */
+  @Test
+  public void testNegativeMaximumIsUnbounded() {
+    StringBuilder log = new StringBuilder();
+    for (int i = 0; i < 4096; i++) {
+      log.append("line ").append(i).append('\n');
+    }
+    InternetGatewayDevice device = new InternetGatewayDevice()
+      .withDeviceConfig(new DeviceConfig().withConfigFile("<config/>"))
+      .withDeviceInfo(new DeviceInfo().withDeviceLog(log.toString()));
+    assertTrue(validator.validate(device).isEmpty());
+  }
+
+  @Test
+  public void testLengthViolation() {
+    InternetGatewayDevice device = new InternetGatewayDevice()
+      .withDeviceInfo(new DeviceInfo().withManufacturerOUI("001A2B3C"));
+    List<Violation> violations = validator.validate(device);
+    assertEquals(1, violations.size());
+    assertEquals("InternetGatewayDevice.DeviceInfo.ManufacturerOUI", violations.get(0).getPath());
+  }
+
+}
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.CallControl;
 import org.broadbandforum.tr104.voiceservice.CallLog;
 import org.broadbandforum.tr104.voiceservice.Capabilities;
@@ -175,6 +177,16 @@ This object has to be used when the CPE is a voice endpoint itself.
 	@XmlElement(name = "ClockSynchronization")
 	public ClockSynchronization clockSynchronization;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VoiceService() {
 	}
 
@@ -197,6 +209,8 @@ This object has to be used when the CPE is a voice endpoint itself.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -208,6 +222,8 @@ This object has to be used when the CPE is a voice endpoint itself.
 	 */
 	public VoiceService withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -451,10 +467,22 @@ The {{object}} holds all parameters a CPE needs to set up a trunk connection wit
 	 * @return the value
 	 */
 	public Collection<Trunk> getTrunks() {
-		if (this.trunks == null){ this.trunks=new ArrayList<>();}
+		if (!(this.trunks instanceof InstanceTable)){ this.trunks=InstanceTable.of(this.trunks);}
 		return trunks;
 	}
 
+	/**
+	 * Read the trunk table.
+
+The {{object}} holds all parameters a CPE needs to set up a trunk connection with an NGN, as defined in {{bibref|ETSI_TS_181_019}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Trunk> viewTrunks() {
+		return trunks == null ? Collections.emptyList() : trunks;
+	}
+
 	/**
 	 * Set the trunk table.
 
@@ -522,10 +550,22 @@ It is mutually exclusive with the {{object|.CallControl}} object which is used i
 	 * @return the value
 	 */
 	public Collection<Interwork> getInterworks() {
-		if (this.interworks == null){ this.interworks=new ArrayList<>();}
+		if (!(this.interworks instanceof InstanceTable)){ this.interworks=InstanceTable.of(this.interworks);}
 		return interworks;
 	}
 
+	/**
+	 * Read the each entry in this table configures Inter-Working Function switching features.
+
+It is mutually exclusive with the {{object|.CallControl}} object which is used in case of PBX or Endpoint capabilities.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interwork> viewInterworks() {
+		return interworks == null ? Collections.emptyList() : interworks;
+	}
+
 	/**
 	 * Set the each entry in this table configures Inter-Working Function switching features.
 
@@ -558,10 +598,22 @@ An entry is created each time a call is terminated. If the number of {{object|.C
 	 * @return the value
 	 */
 	public Collection<CallLog> getCallLogs() {
-		if (this.callLogs == null){ this.callLogs=new ArrayList<>();}
+		if (!(this.callLogs instanceof InstanceTable)){ this.callLogs=InstanceTable.of(this.callLogs);}
 		return callLogs;
 	}
 
+	/**
+	 * Read the this table contains a list of calls. An entry is similar to a CDR (Call Detail Record) as used in PBX or on mobile phones.
+
+An entry is created each time a call is terminated. If the number of {{object|.CallLog}} exceeds {{param|.Capabilities.MaxCallLogCount}}, the CPE SHOULD remove the oldest {{object|.CallLog}} object on basis of {{param|Start}} parameter.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CallLog> viewCallLogs() {
+		return callLogs == null ? Collections.emptyList() : callLogs;
+	}
+
 	/**
 	 * Set the this table contains a list of calls. An entry is similar to a CDR (Call Detail Record) as used in PBX or on mobile phones.
 
@@ -596,10 +648,24 @@ VoIP Profiles could be used by {{object|.SIP.Network.}}, {{object|.SIP.Proxy.}},
 	 * @return the value
 	 */
 	public Collection<VoIPProfile> getVoiPProfiles() {
-		if (this.voiPProfiles == null){ this.voiPProfiles=new ArrayList<>();}
+		if (!(this.voiPProfiles instanceof InstanceTable)){ this.voiPProfiles=InstanceTable.of(this.voiPProfiles);}
 		return voiPProfiles;
 	}
 
+	/**
+	 * Read the configuration profile that can be shared by VoIP components.
+
+A VoIP Profile contains media transport configuration parameters that are common to different VoIP protocols.
+
+VoIP Profiles could be used by {{object|.SIP.Network.}}, {{object|.SIP.Proxy.}}, {{object|.SIP.Network.}}, {{object|.H323.Network.}} and {{object|.MGCP.Network.}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VoIPProfile> viewVoiPProfiles() {
+		return voiPProfiles == null ? Collections.emptyList() : voiPProfiles;
+	}
+
 	/**
 	 * Set the configuration profile that can be shared by VoIP components.
 
@@ -634,10 +700,20 @@ VoIP Profiles could be used by {{object|.SIP.Network.}}, {{object|.SIP.Proxy.}},
 	 * @return the value
 	 */
 	public Collection<CodecProfile> getCodecProfiles() {
-		if (this.codecProfiles == null){ this.codecProfiles=new ArrayList<>();}
+		if (!(this.codecProfiles instanceof InstanceTable)){ this.codecProfiles=InstanceTable.of(this.codecProfiles);}
 		return codecProfiles;
 	}
 
+	/**
+	 * Read the table of codec profiles. This table MUST be populated with the set of supported codecs matching {{object|.Capabilities.Codec.}}. Additional entries can be added to use different configurations of codec or to use the same codec configuration in different CodecList parameters.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CodecProfile> viewCodecProfiles() {
+		return codecProfiles == null ? Collections.emptyList() : codecProfiles;
+	}
+
 	/**
 	 * Set the table of codec profiles. This table MUST be populated with the set of supported codecs matching {{object|.Capabilities.Codec.}}. Additional entries can be added to use different configurations of codec or to use the same codec configuration in different CodecList parameters.
 	 *
@@ -695,10 +771,22 @@ This object has to be used when the CPE is a voice endpoint itself.
 	 * @return the value
 	 */
 	public Collection<Terminal> getTerminals() {
-		if (this.terminals == null){ this.terminals=new ArrayList<>();}
+		if (!(this.terminals instanceof InstanceTable)){ this.terminals=InstanceTable.of(this.terminals);}
 		return terminals;
 	}
 
+	/**
+	 * Read the this object models a telephony terminal, each object in the table represents an end-user interface.
+
+This object has to be used when the CPE is a voice endpoint itself.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Terminal> viewTerminals() {
+		return terminals == null ? Collections.emptyList() : terminals;
+	}
+
 	/**
 	 * Set the this object models a telephony terminal, each object in the table represents an end-user interface.
 
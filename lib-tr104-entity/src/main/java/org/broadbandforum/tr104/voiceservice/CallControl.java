@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.callcontrol.CallingFeatures;
 import org.broadbandforum.tr104.voiceservice.callcontrol.Extension;
 import org.broadbandforum.tr104.voiceservice.callcontrol.Group;
@@ -130,6 +132,11 @@ The map approach separates the call routing aspects from the configuration of th
 	@XmlElement(name = "CallingFeatures")
 	public CallingFeatures callingFeatures;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CallControl() {
 	}
 
@@ -156,6 +163,7 @@ This value cannot be greater than {{param|.Capabilities.MaxLineCount}}.
 	 */
 	public void  setMaxNumberOfLines(Long maxNumberOfLines) {
 		this.maxNumberOfLines = maxNumberOfLines;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -169,6 +177,7 @@ This value cannot be greater than {{param|.Capabilities.MaxLineCount}}.
 	 */
 	public CallControl withMaxNumberOfLines(Long maxNumberOfLines) {
 		this.maxNumberOfLines = maxNumberOfLines;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -194,6 +203,7 @@ This value cannot be greater than {{param|.Capabilities.MaxExtensionCount}}.
 	 */
 	public void  setMaxNumberOfExtensions(Long maxNumberOfExtensions) {
 		this.maxNumberOfExtensions = maxNumberOfExtensions;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -207,6 +217,7 @@ This value cannot be greater than {{param|.Capabilities.MaxExtensionCount}}.
 	 */
 	public CallControl withMaxNumberOfExtensions(Long maxNumberOfExtensions) {
 		this.maxNumberOfExtensions = maxNumberOfExtensions;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -218,10 +229,22 @@ Support for adding and removing lines is conditional on whether the CPE supports
 	 * @return the value
 	 */
 	public Collection<Line> getLines() {
-		if (this.lines == null){ this.lines=new ArrayList<>();}
+		if (!(this.lines instanceof InstanceTable)){ this.lines=InstanceTable.of(this.lines);}
 		return lines;
 	}
 
+	/**
+	 * Read the voice line table.
+
+Support for adding and removing lines is conditional on whether the CPE supports more than one line in total as indicated by {{param|.Capabilities.MaxLineCount}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Line> viewLines() {
+		return lines == null ? Collections.emptyList() : lines;
+	}
+
 	/**
 	 * Set the voice line table.
 
@@ -254,10 +277,22 @@ Support for adding and removing extensions is conditional on whether the CPE sup
 	 * @return the value
 	 */
 	public Collection<Extension> getExtensions() {
-		if (this.extensions == null){ this.extensions=new ArrayList<>();}
+		if (!(this.extensions instanceof InstanceTable)){ this.extensions=InstanceTable.of(this.extensions);}
 		return extensions;
 	}
 
+	/**
+	 * Read the extension table containing the local numbers and names.
+
+Support for adding and removing extensions is conditional on whether the CPE supports more than one line in total as indicated by {{param|.Capabilities.MaxExtensionCount}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Extension> viewExtensions() {
+		return extensions == null ? Collections.emptyList() : extensions;
+	}
+
 	/**
 	 * Set the extension table containing the local numbers and names.
 
@@ -288,10 +323,20 @@ Support for adding and removing extensions is conditional on whether the CPE sup
 	 * @return the value
 	 */
 	public Collection<Group> getGroups() {
-		if (this.groups == null){ this.groups=new ArrayList<>();}
+		if (!(this.groups instanceof InstanceTable)){ this.groups=InstanceTable.of(this.groups);}
 		return groups;
 	}
 
+	/**
+	 * Read the this object models an extension as a group of extensions.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Group> viewGroups() {
+		return groups == null ? Collections.emptyList() : groups;
+	}
+
 	/**
 	 * Set the this object models an extension as a group of extensions.
 	 *
@@ -318,10 +363,20 @@ Support for adding and removing extensions is conditional on whether the CPE sup
 	 * @return the value
 	 */
 	public Collection<Mailbox> getMailboxs() {
-		if (this.mailboxs == null){ this.mailboxs=new ArrayList<>();}
+		if (!(this.mailboxs instanceof InstanceTable)){ this.mailboxs=InstanceTable.of(this.mailboxs);}
 		return mailboxs;
 	}
 
+	/**
+	 * Read the voice mail configuration related to a particular extension.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Mailbox> viewMailboxs() {
+		return mailboxs == null ? Collections.emptyList() : mailboxs;
+	}
+
 	/**
 	 * Set the voice mail configuration related to a particular extension.
 	 *
@@ -350,10 +405,22 @@ The map approach separates the call routing aspects from the configuration of th
 	 * @return the value
 	 */
 	public Collection<IncomingMap> getIncomingMaps() {
-		if (this.incomingMaps == null){ this.incomingMaps=new ArrayList<>();}
+		if (!(this.incomingMaps instanceof InstanceTable)){ this.incomingMaps=InstanceTable.of(this.incomingMaps);}
 		return incomingMaps;
 	}
 
+	/**
+	 * Read the {{object}} is a table that is used to control which extensions ring when an incoming call is received.
+
+The map approach separates the call routing aspects from the configuration of the lines and extensions. It support PBX concepts such as DDI (one extension per line) and groups (parallel dialing if extensions have same priority and hunting when extensions have different priority).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IncomingMap> viewIncomingMaps() {
+		return incomingMaps == null ? Collections.emptyList() : incomingMaps;
+	}
+
 	/**
 	 * Set the {{object}} is a table that is used to control which extensions ring when an incoming call is received.
 
@@ -384,10 +451,20 @@ The map approach separates the call routing aspects from the configuration of th
 	 * @return the value
 	 */
 	public Collection<OutgoingMap> getOutgoingMaps() {
-		if (this.outgoingMaps == null){ this.outgoingMaps=new ArrayList<>();}
+		if (!(this.outgoingMaps instanceof InstanceTable)){ this.outgoingMaps=InstanceTable.of(this.outgoingMaps);}
 		return outgoingMaps;
 	}
 
+	/**
+	 * Read the {{object}} is a table that is used to control which line is used when an extension makes a call.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<OutgoingMap> viewOutgoingMaps() {
+		return outgoingMaps == null ? Collections.emptyList() : outgoingMaps;
+	}
+
 	/**
 	 * Set the {{object}} is a table that is used to control which line is used when an extension makes a call.
 	 *
@@ -416,10 +493,22 @@ The map approach separates the call routing aspects from the configuration of th
 	 * @return the value
 	 */
 	public Collection<NumberingPlan> getNumberingPlans() {
-		if (this.numberingPlans == null){ this.numberingPlans=new ArrayList<>();}
+		if (!(this.numberingPlans instanceof InstanceTable)){ this.numberingPlans=InstanceTable.of(this.numberingPlans);}
 		return numberingPlans;
 	}
 
+	/**
+	 * Read the information related the numbering plan.
+
+{{object}} is applicable only if the device supports a dialing mechanism for which a number plan is needed (for example, some devices with an explicit Dial button do not need to be aware of the dialing plan) and if the device does not already support a numbering plan mechanism for this call control (e.g., in-band via MGCP).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<NumberingPlan> viewNumberingPlans() {
+		return numberingPlans == null ? Collections.emptyList() : numberingPlans;
+	}
+
 	/**
 	 * Set the information related the numbering plan.
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr104.voiceservice;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,10 +27,14 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr104.voiceservice.calllog.Session;
 import org.broadbandforum.tr104.voiceservice.calllog.SignalingPerformance;
 
@@ -139,6 +144,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 * @since 2.0
 	 */
 	@XmlElement(name = "Start")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime start;
 	/**
 	 * Length of the call in seconds.
@@ -170,6 +176,16 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	@XmlElement(name = "Session")
 	public Collection<Session> sessions;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CallLog() {
 	}
 
@@ -192,6 +208,8 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -203,6 +221,8 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public CallLog withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -224,6 +244,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public void  setCallingPartyNumber(String callingPartyNumber) {
 		this.callingPartyNumber = callingPartyNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -235,6 +256,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public CallLog withCallingPartyNumber(String callingPartyNumber) {
 		this.callingPartyNumber = callingPartyNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -256,6 +278,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public void  setCalledPartyNumber(String calledPartyNumber) {
 		this.calledPartyNumber = calledPartyNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -267,6 +290,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public CallLog withCalledPartyNumber(String calledPartyNumber) {
 		this.calledPartyNumber = calledPartyNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -296,6 +320,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public void  setSource(String source) {
 		this.source = source;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -311,6 +336,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public CallLog withSource(String source) {
 		this.source = source;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -340,6 +366,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public void  setDestination(String destination) {
 		this.destination = destination;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -355,6 +382,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public CallLog withDestination(String destination) {
 		this.destination = destination;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -376,6 +404,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public void  setRemoteParty(String remoteParty) {
 		this.remoteParty = remoteParty;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -387,6 +416,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public CallLog withRemoteParty(String remoteParty) {
 		this.remoteParty = remoteParty;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -416,6 +446,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public void  setUsedLine(String usedLine) {
 		this.usedLine = usedLine;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -431,6 +462,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public CallLog withUsedLine(String usedLine) {
 		this.usedLine = usedLine;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -449,6 +481,21 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 		return usedExtensions;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+For an incoming call multiple {{object|.CallControl.Extension}} objects can be involved till one user answers the call.
+
+When {{object|.Interwork}} is in use, this parameter is {{empty}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUsedExtensions() {
+		return usedExtensions == null ? Collections.emptyList() : usedExtensions;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -461,6 +508,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public void  setUsedExtensions(Collection<String> usedExtensions) {
 		this.usedExtensions = usedExtensions;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -476,6 +524,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public CallLog withUsedExtensions(String string) {
 		getUsedExtensions().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -497,6 +546,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public void  setDirection(String direction) {
 		this.direction = direction;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -508,6 +558,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public CallLog withDirection(String direction) {
 		this.direction = direction;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -529,6 +580,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public void  setStart(LocalDateTime start) {
 		this.start = start;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -540,6 +592,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public CallLog withStart(LocalDateTime start) {
 		this.start = start;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -561,6 +614,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public void  setDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -572,6 +626,7 @@ When {{object|.Interwork}} is in use, this parameter is {{empty}}.
 	 */
 	public CallLog withDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -597,6 +652,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public void  setCallTerminationCause(String callTerminationCause) {
 		this.callTerminationCause = callTerminationCause;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -610,6 +666,7 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 */
 	public CallLog withCallTerminationCause(String callTerminationCause) {
 		this.callTerminationCause = callTerminationCause;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -619,10 +676,20 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 * @return the value
 	 */
 	public Collection<SignalingPerformance> getSignalingPerformances() {
-		if (this.signalingPerformances == null){ this.signalingPerformances=new ArrayList<>();}
+		if (!(this.signalingPerformances instanceof InstanceTable)){ this.signalingPerformances=InstanceTable.of(this.signalingPerformances);}
 		return signalingPerformances;
 	}
 
+	/**
+	 * Read the this table contains signaling performance statistics for each protocol involved in the call.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SignalingPerformance> viewSignalingPerformances() {
+		return signalingPerformances == null ? Collections.emptyList() : signalingPerformances;
+	}
+
 	/**
 	 * Set the this table contains signaling performance statistics for each protocol involved in the call.
 	 *
@@ -649,10 +716,20 @@ The parameter MAY instead indicate a vendor-specific cause, which MUST use the f
 	 * @return the value
 	 */
 	public Collection<Session> getSessions() {
-		if (this.sessions == null){ this.sessions=new ArrayList<>();}
+		if (!(this.sessions instanceof InstanceTable)){ this.sessions=InstanceTable.of(this.sessions);}
 		return sessions;
 	}
 
+	/**
+	 * Read the session information within one call.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Session> viewSessions() {
+		return sessions == null ? Collections.emptyList() : sessions;
+	}
+
 	/**
 	 * Set the session information within one call.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.capabilities.Codec;
 import org.broadbandforum.tr104.voiceservice.capabilities.H323;
 import org.broadbandforum.tr104.voiceservice.capabilities.ISDN;
@@ -224,6 +227,11 @@ Facility Actions are referenced in the VoiceService data model in the objects {{
 	@XmlElement(name = "QualityIndicator")
 	public QualityIndicator qualityIndicator;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -250,6 +258,7 @@ A value of -1 indicates no specific limit on the number of lines.
 	 */
 	public void  setMaxLineCount(Integer maxLineCount) {
 		this.maxLineCount = maxLineCount;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -263,6 +272,7 @@ A value of -1 indicates no specific limit on the number of lines.
 	 */
 	public Capabilities withMaxLineCount(Integer maxLineCount) {
 		this.maxLineCount = maxLineCount;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -288,6 +298,7 @@ A value of -1 indicates no specific limit on the number of extensions.
 	 */
 	public void  setMaxExtensionCount(Integer maxExtensionCount) {
 		this.maxExtensionCount = maxExtensionCount;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -301,6 +312,7 @@ A value of -1 indicates no specific limit on the number of extensions.
 	 */
 	public Capabilities withMaxExtensionCount(Integer maxExtensionCount) {
 		this.maxExtensionCount = maxExtensionCount;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -326,6 +338,7 @@ A value of -1 indicates no specific limit on the number of call logs.
 	 */
 	public void  setMaxCallLogCount(Integer maxCallLogCount) {
 		this.maxCallLogCount = maxCallLogCount;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -339,6 +352,7 @@ A value of -1 indicates no specific limit on the number of call logs.
 	 */
 	public Capabilities withMaxCallLogCount(Integer maxCallLogCount) {
 		this.maxCallLogCount = maxCallLogCount;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -364,6 +378,7 @@ A value of -1 indicates no specific limit on the number of voice sessions per li
 	 */
 	public void  setMaxSessionsPerLine(Integer maxSessionsPerLine) {
 		this.maxSessionsPerLine = maxSessionsPerLine;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -377,6 +392,7 @@ A value of -1 indicates no specific limit on the number of voice sessions per li
 	 */
 	public Capabilities withMaxSessionsPerLine(Integer maxSessionsPerLine) {
 		this.maxSessionsPerLine = maxSessionsPerLine;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -402,6 +418,7 @@ A value of -1 indicates no specific limit on the number of voice sessions per ex
 	 */
 	public void  setMaxSessionsPerExtension(Integer maxSessionsPerExtension) {
 		this.maxSessionsPerExtension = maxSessionsPerExtension;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -415,6 +432,7 @@ A value of -1 indicates no specific limit on the number of voice sessions per ex
 	 */
 	public Capabilities withMaxSessionsPerExtension(Integer maxSessionsPerExtension) {
 		this.maxSessionsPerExtension = maxSessionsPerExtension;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -440,6 +458,7 @@ A value of -1 indicates no specific limit on the number of voice sessions.
 	 */
 	public void  setMaxSessionCount(Integer maxSessionCount) {
 		this.maxSessionCount = maxSessionCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -453,6 +472,7 @@ A value of -1 indicates no specific limit on the number of voice sessions.
 	 */
 	public Capabilities withMaxSessionCount(Integer maxSessionCount) {
 		this.maxSessionCount = maxSessionCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -475,6 +495,25 @@ The list MAY include vendor-specific modes, which MUST be in the format defined
 		return networkConnectionModes;
 	}
 
+	/**
+	 * Read the {{list}}  Each item is a supported network connection mode.  {{pattern}}
+
+Most entries MAY be appended with a version indicator in the form "/X.Y".  For example:
+
+"SIP/2.0"
+
+The list MAY include vendor-specific modes, which MUST be in the format defined in {{bibref|TR-106}}.  For example:
+
+"X_EXAMPLE-COM_MyMode"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewNetworkConnectionModes() {
+		return networkConnectionModes == null ? Collections.emptyList() : networkConnectionModes;
+	}
+
 	/**
 	 * Set the {{list}}  Each item is a supported network connection mode.  {{pattern}}
 
@@ -491,6 +530,7 @@ The list MAY include vendor-specific modes, which MUST be in the format defined
 	 */
 	public void  setNetworkConnectionModes(Collection<String> networkConnectionModes) {
 		this.networkConnectionModes = networkConnectionModes;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -510,6 +550,7 @@ The list MAY include vendor-specific modes, which MUST be in the format defined
 	 */
 	public Capabilities withNetworkConnectionModes(String string) {
 		getNetworkConnectionModes().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -532,6 +573,25 @@ The list MAY include vendor-specific modes, which MUST be in the format defined
 		return userConnectionModes;
 	}
 
+	/**
+	 * Read the {{list}}  Each item is a supported user connection mode.  {{pattern}}
+
+Most entries MAY be appended with a version indicator in the form "/X.Y".  For example:
+
+"SIP/2.0"
+
+The list MAY include vendor-specific modes, which MUST be in the format defined in {{bibref|TR-106}}.  For example:
+
+"X_EXAMPLE-COM_MyMode"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUserConnectionModes() {
+		return userConnectionModes == null ? Collections.emptyList() : userConnectionModes;
+	}
+
 	/**
 	 * Set the {{list}}  Each item is a supported user connection mode.  {{pattern}}
 
@@ -548,6 +608,7 @@ The list MAY include vendor-specific modes, which MUST be in the format defined
 	 */
 	public void  setUserConnectionModes(Collection<String> userConnectionModes) {
 		this.userConnectionModes = userConnectionModes;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -567,6 +628,7 @@ The list MAY include vendor-specific modes, which MUST be in the format defined
 	 */
 	public Capabilities withUserConnectionModes(String string) {
 		getUserConnectionModes().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -591,6 +653,27 @@ If the CPE does not support tone files, this parameter MUST be {{empty}}.
 		return toneFileFormats;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported tone file format.  The specified file formats are raw codec data files, using one of the codecs listed below. 
+
+Enumerated value must be one of [G.711MuLaw, G.711ALaw, G.729, MP3, WAV, AMR]
+
+The list MAY include vendor-specific -specific extensions, which MUST use the format defined in {{bibref|TR-106}}.
+
+Example:
+
+"G.711MuLaw, MP3, X_EXAMPLE-COM_MyFileFormat"
+
+If the CPE does not support tone files, this parameter MUST be {{empty}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewToneFileFormats() {
+		return toneFileFormats == null ? Collections.emptyList() : toneFileFormats;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported tone file format.  The specified file formats are raw codec data files, using one of the codecs listed below. 
 
@@ -609,6 +692,7 @@ If the CPE does not support tone files, this parameter MUST be {{empty}}.
 	 */
 	public void  setToneFileFormats(Collection<String> toneFileFormats) {
 		this.toneFileFormats = toneFileFormats;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -630,6 +714,7 @@ If the CPE does not support tone files, this parameter MUST be {{empty}}.
 	 */
 	public Capabilities withToneFileFormats(String string) {
 		getToneFileFormats().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -654,6 +739,27 @@ If the CPE does not support ring files, this parameter MUST be {{empty}}.
 		return ringFileFormats;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported ring file format. 
+
+Enumerated value must be one of [MIDI, SMAF, RTTTL, MP3, WAV, AMR]
+
+The list MAY include vendor-specific-specific extensions, which MUST use the format defined in {{bibref|TR-106}}.
+
+Example:
+
+"MIDI, AMR, X_EXAMPLE-COM_MyFileFormat"
+
+If the CPE does not support ring files, this parameter MUST be {{empty}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRingFileFormats() {
+		return ringFileFormats == null ? Collections.emptyList() : ringFileFormats;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported ring file format. 
 
@@ -672,6 +778,7 @@ If the CPE does not support ring files, this parameter MUST be {{empty}}.
 	 */
 	public void  setRingFileFormats(Collection<String> ringFileFormats) {
 		this.ringFileFormats = ringFileFormats;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -693,6 +800,7 @@ If the CPE does not support ring files, this parameter MUST be {{empty}}.
 	 */
 	public Capabilities withRingFileFormats(String string) {
 		getRingFileFormats().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -713,6 +821,23 @@ Facility Actions are referenced in the VoiceService data model in the objects {{
 		return facilityActions;
 	}
 
+	/**
+	 * Read the facility actions supported by this VoiceService.  
+
+Enumerated value must be one of [AA_REGISTER, AA_ERASE, AA_INTERROGATE, CA_ACTIVATE, CCBS_ACTIVATE, CCBS_DEACTIVATE, CCBS_INTERROGATE, CCNR_ACTIVATE, CCNR_DEACTIVATE, CCNR_INTERROGATE, CFB_REGISTER, CFB_ACTIVATE, CFB_DEACTIVATE, CFB_ERASE, CFB_INTERROGATE, CFNR_REGISTER, CFNR_ACTIVATE, CFNR_DEACTIVATE, CFNR_ERASE, CFNR_INTERROGATE, CFNR_TIMER, CFT_ACTIVATE, CFT_DEACTIVATE, CFT_INTERROGATE, CFU_REGISTER, CFU_ACTIVATE, CFU_DEACTIVATE, CFU_ERASE, CFU_INTERROGATE, CLIR_ACTIVATE, CLIR_DEACTIVATE, CLIR_INTERROGATE, CP_INVOKE, CW_ACTIVATE, CW_DEACTIVATE, CW_INVOKE, DND_ACTIVATE, DND_DEACTIVATE, DND_INTERROGATE, EXT_INVOKE, LINE_INVOKE, MAILBOX_INVOKE, OCB_ACTIVATE, OCB_DEACTIVATE, OCB_INTERROGATE, PSO_ACTIVATE, PW_SET, SCF_ACTIVATE, SCF_DEACTIVATE, SCF_INTERROGATE, SCREJ_ACTIVATE, SCREJ_DEACTIVATE, SCREJ_INTERROGATE, SR_ACTIVATE, SR_DEACTIVATE, SR_INTERROGATE]
+
+The list MAY include vendor-specific Facility Actions, which MUST use the format defined in {{bibref|TR-106}}.
+
+Facility Actions are referenced in the VoiceService data model in the objects {{object|.CallControl.NumberingPlan.{i}.PrefixInfo.{i}.}} and {{object|.Terminal.{i}.ButtonMap.Button.{i}.}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFacilityActions() {
+		return facilityActions == null ? Collections.emptyList() : facilityActions;
+	}
+
 	/**
 	 * Set the facility actions supported by this VoiceService.  
 
@@ -727,6 +852,7 @@ Facility Actions are referenced in the VoiceService data model in the objects {{
 	 */
 	public void  setFacilityActions(Collection<String> facilityActions) {
 		this.facilityActions = facilityActions;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -744,6 +870,7 @@ Facility Actions are referenced in the VoiceService data model in the objects {{
 	 */
 	public Capabilities withFacilityActions(String string) {
 		getFacilityActions().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -898,10 +1025,20 @@ Facility Actions are referenced in the VoiceService data model in the objects {{
 	 * @return the value
 	 */
 	public Collection<Codec> getCodecs() {
-		if (this.codecs == null){ this.codecs=new ArrayList<>();}
+		if (!(this.codecs instanceof InstanceTable)){ this.codecs=InstanceTable.of(this.codecs);}
 		return codecs;
 	}
 
+	/**
+	 * Read the table to describe the set of supported codecs.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Codec> viewCodecs() {
+		return codecs == null ? Collections.emptyList() : codecs;
+	}
+
 	/**
 	 * Set the table to describe the set of supported codecs.
 	 *
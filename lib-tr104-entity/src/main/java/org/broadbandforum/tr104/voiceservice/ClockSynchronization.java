@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.clocksynchronization.ClockSource;
 
 	/**
@@ -73,6 +75,11 @@ public class ClockSynchronization {
 	@XmlElement(name = "ClockSource")
 	public Collection<ClockSource> clockSources;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ClockSynchronization() {
 	}
 
@@ -99,6 +106,7 @@ public class ClockSynchronization {
 	 */
 	public void  setCurrentSource(String currentSource) {
 		this.currentSource = currentSource;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +120,7 @@ public class ClockSynchronization {
 	 */
 	public ClockSynchronization withCurrentSource(String currentSource) {
 		this.currentSource = currentSource;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +142,7 @@ public class ClockSynchronization {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +154,7 @@ public class ClockSynchronization {
 	 */
 	public ClockSynchronization withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +176,7 @@ public class ClockSynchronization {
 	 */
 	public void  setAutoRevert(Boolean autoRevert) {
 		this.autoRevert = autoRevert;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +188,7 @@ public class ClockSynchronization {
 	 */
 	public ClockSynchronization withAutoRevert(Boolean autoRevert) {
 		this.autoRevert = autoRevert;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,10 +198,20 @@ public class ClockSynchronization {
 	 * @return the value
 	 */
 	public Collection<ClockSource> getClockSources() {
-		if (this.clockSources == null){ this.clockSources=new ArrayList<>();}
+		if (!(this.clockSources instanceof InstanceTable)){ this.clockSources=InstanceTable.of(this.clockSources);}
 		return clockSources;
 	}
 
+	/**
+	 * Read the list of eligible external clock sources. The number of entries in this table depends on the maximum number of external clock sources supported by the CPE.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ClockSource> viewClockSources() {
+		return clockSources == null ? Collections.emptyList() : clockSources;
+	}
+
 	/**
 	 * Set the list of eligible external clock sources. The number of entries in this table depends on the maximum number of external clock sources supported by the CPE.
 	 *
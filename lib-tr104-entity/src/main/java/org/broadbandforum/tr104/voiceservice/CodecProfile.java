@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table of codec profiles. This table MUST be populated with the set of supported codecs matching {{object|.Capabilities.Codec.}}. Additional entries can be added to use different configurations of codec or to use the same codec configuration in different CodecList parameters.
@@ -84,6 +87,16 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	@CWMPParameter(access = "readWrite")
 	public Boolean silenceSuppression;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CodecProfile() {
 	}
 
@@ -106,6 +119,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -117,6 +131,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public CodecProfile withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -138,6 +153,8 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -149,6 +166,8 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public CodecProfile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -170,6 +189,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public void  setCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -181,6 +201,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public CodecProfile withCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -197,6 +218,19 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 		return packetizationPeriod;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported packetization period, in milliseconds, or continuous ranges of packetization periods as defined in {{param|.Capabilities.Codec.{i}.PacketizationPeriod}}.
+
+The ACS MAY restrict the set of packetization periods by modifying the value of this parameter to a more restricted set of values than is listed in {{param|.Capabilities.Codec.{i}.PacketizationPeriod}}. The CPE MUST ignore any values or portions of ranges outside of those specified in {{param|.Capabilities.Codec.{i}.PacketizationPeriod}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPacketizationPeriod() {
+		return packetizationPeriod == null ? Collections.emptyList() : packetizationPeriod;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported packetization period, in milliseconds, or continuous ranges of packetization periods as defined in {{param|.Capabilities.Codec.{i}.PacketizationPeriod}}.
 
@@ -207,6 +241,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public void  setPacketizationPeriod(Collection<String> packetizationPeriod) {
 		this.packetizationPeriod = packetizationPeriod;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -220,6 +255,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public CodecProfile withPacketizationPeriod(String string) {
 		getPacketizationPeriod().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -241,6 +277,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public void  setSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -252,6 +289,7 @@ The ACS MAY restrict the set of packetization periods by modifying the value of
 	 */
 	public CodecProfile withSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.dect.Base;
 import org.broadbandforum.tr104.voiceservice.dect.Portable;
 
@@ -61,10 +62,20 @@ public class DECT {
 	 * @return the value
 	 */
 	public Collection<Base> getBases() {
-		if (this.bases == null){ this.bases=new ArrayList<>();}
+		if (!(this.bases instanceof InstanceTable)){ this.bases=InstanceTable.of(this.bases);}
 		return bases;
 	}
 
+	/**
+	 * Read the decT base table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Base> viewBases() {
+		return bases == null ? Collections.emptyList() : bases;
+	}
+
 	/**
 	 * Set the decT base table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
 	 *
@@ -91,10 +102,20 @@ public class DECT {
 	 * @return the value
 	 */
 	public Collection<Portable> getPortables() {
-		if (this.portables == null){ this.portables=new ArrayList<>();}
+		if (!(this.portables instanceof InstanceTable)){ this.portables=InstanceTable.of(this.portables);}
 		return portables;
 	}
 
+	/**
+	 * Read the decT portable table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Portable> viewPortables() {
+		return portables == null ? Collections.emptyList() : portables;
+	}
+
 	/**
 	 * Set the decT portable table.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.h323.Client;
 import org.broadbandforum.tr104.voiceservice.h323.Network;
 
@@ -64,10 +65,20 @@ public class H323 {
 	 * @return the value
 	 */
 	public Collection<Client> getClients() {
-		if (this.clients == null){ this.clients=new ArrayList<>();}
+		if (!(this.clients instanceof InstanceTable)){ this.clients=InstanceTable.of(this.clients);}
 		return clients;
 	}
 
+	/**
+	 * Read the h.323 client table (a client as described in {{bibref|TR-104i2|Section 4.2}}). Each H.323 client maintains a registration for the H.323 identities of the associated line with the {{object|#.Network}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Client> viewClients() {
+		return clients == null ? Collections.emptyList() : clients;
+	}
+
 	/**
 	 * Set the h.323 client table (a client as described in {{bibref|TR-104i2|Section 4.2}}). Each H.323 client maintains a registration for the H.323 identities of the associated line with the {{object|#.Network}}.
 	 *
@@ -94,10 +105,20 @@ public class H323 {
 	 * @return the value
 	 */
 	public Collection<Network> getNetworks() {
-		if (this.networks == null){ this.networks=new ArrayList<>();}
+		if (!(this.networks instanceof InstanceTable)){ this.networks=InstanceTable.of(this.networks);}
 		return networks;
 	}
 
+	/**
+	 * Read the this object models a H.323 network (a network as described in {{bibref|TR-104i2|Section 4.2}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Network> viewNetworks() {
+		return networks == null ? Collections.emptyList() : networks;
+	}
+
 	/**
 	 * Set the this object models a H.323 network (a network as described in {{bibref|TR-104i2|Section 4.2}}).
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.isdn.BRI;
 import org.broadbandforum.tr104.voiceservice.isdn.PRI;
 
@@ -61,10 +62,20 @@ public class ISDN {
 	 * @return the value
 	 */
 	public Collection<BRI> getBris() {
-		if (this.bris == null){ this.bris=new ArrayList<>();}
+		if (!(this.bris instanceof InstanceTable)){ this.bris=InstanceTable.of(this.bris);}
 		return bris;
 	}
 
+	/**
+	 * Read the isdN BRI physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BRI> viewBris() {
+		return bris == null ? Collections.emptyList() : bris;
+	}
+
 	/**
 	 * Set the isdN BRI physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
 	 *
@@ -91,10 +102,20 @@ public class ISDN {
 	 * @return the value
 	 */
 	public Collection<PRI> getPris() {
-		if (this.pris == null){ this.pris=new ArrayList<>();}
+		if (!(this.pris instanceof InstanceTable)){ this.pris=InstanceTable.of(this.pris);}
 		return pris;
 	}
 
+	/**
+	 * Read the isdN PRI physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PRI> viewPris() {
+		return pris == null ? Collections.emptyList() : pris;
+	}
+
 	/**
 	 * Set the isdN PRI physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
 	 *
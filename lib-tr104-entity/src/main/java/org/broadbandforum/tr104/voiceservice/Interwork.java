@@ -18,6 +18,7 @@ package org.broadbandforum.tr104.voiceservice;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,11 +27,15 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr104.voiceservice.interwork.Map;
 import org.broadbandforum.tr104.voiceservice.interwork.UserInterface;
 
@@ -167,6 +172,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 * @since 2.0
 	 */
 	@XmlElement(name = "InterworkingRuleSetTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime interworkingRuleSetTime;
 	/**
@@ -202,6 +208,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 * @since 2.0
 	 */
 	@XmlElement(name = "FirewallRuleSetTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime firewallRuleSetTime;
 	/**
@@ -257,6 +264,16 @@ List of available Networks for routing calls.
 	@CWMPParameter(access = "readWrite")
 	public Collection<Map> maps;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interwork() {
 	}
 
@@ -279,6 +296,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -290,6 +308,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -311,6 +330,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -322,6 +342,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -343,6 +364,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -354,6 +376,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -375,6 +398,8 @@ List of available Networks for routing calls.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -386,6 +411,8 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -407,6 +434,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setOperationalStatus(String operationalStatus) {
 		this.operationalStatus = operationalStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -418,6 +446,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withOperationalStatus(String operationalStatus) {
 		this.operationalStatus = operationalStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -439,6 +468,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setOperationalStatusReason(String operationalStatusReason) {
 		this.operationalStatusReason = operationalStatusReason;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -450,6 +480,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withOperationalStatusReason(String operationalStatusReason) {
 		this.operationalStatusReason = operationalStatusReason;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -471,6 +502,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setNetworkConnectionMode(String networkConnectionMode) {
 		this.networkConnectionMode = networkConnectionMode;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -482,6 +514,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withNetworkConnectionMode(String networkConnectionMode) {
 		this.networkConnectionMode = networkConnectionMode;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -503,6 +536,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setUserConnectionMode(String userConnectionMode) {
 		this.userConnectionMode = userConnectionMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -514,6 +548,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withUserConnectionMode(String userConnectionMode) {
 		this.userConnectionMode = userConnectionMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -535,6 +570,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setE164Mode(Boolean e164Mode) {
 		this.e164Mode = e164Mode;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -546,6 +582,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withE164Mode(Boolean e164Mode) {
 		this.e164Mode = e164Mode;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -567,6 +604,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setNetworkAuthenticationChallengeMode(String networkAuthenticationChallengeMode) {
 		this.networkAuthenticationChallengeMode = networkAuthenticationChallengeMode;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -578,6 +616,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withNetworkAuthenticationChallengeMode(String networkAuthenticationChallengeMode) {
 		this.networkAuthenticationChallengeMode = networkAuthenticationChallengeMode;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -603,6 +642,7 @@ Note: In case of multiple network IP addresses, the choice is left to the CPE.
 	 */
 	public void  setNetworkIPAddress(IPAddress networkIPAddress) {
 		this.networkIPAddress = networkIPAddress;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -616,6 +656,7 @@ Note: In case of multiple network IP addresses, the choice is left to the CPE.
 	 */
 	public Interwork withNetworkIPAddress(IPAddress networkIPAddress) {
 		this.networkIPAddress = networkIPAddress;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -637,6 +678,7 @@ Note: In case of multiple network IP addresses, the choice is left to the CPE.
 	 */
 	public void  setInterworkingRuleSetURI(String interworkingRuleSetURI) {
 		this.interworkingRuleSetURI = interworkingRuleSetURI;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -648,6 +690,7 @@ Note: In case of multiple network IP addresses, the choice is left to the CPE.
 	 */
 	public Interwork withInterworkingRuleSetURI(String interworkingRuleSetURI) {
 		this.interworkingRuleSetURI = interworkingRuleSetURI;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -673,6 +716,7 @@ A value of '0' indicates that this feature is disabled.
 	 */
 	public void  setInterworkingRuleSetInterval(Long interworkingRuleSetInterval) {
 		this.interworkingRuleSetInterval = interworkingRuleSetInterval;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -686,6 +730,7 @@ A value of '0' indicates that this feature is disabled.
 	 */
 	public Interwork withInterworkingRuleSetInterval(Long interworkingRuleSetInterval) {
 		this.interworkingRuleSetInterval = interworkingRuleSetInterval;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -723,6 +768,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public void  setInterworkingRuleSetTime(LocalDateTime interworkingRuleSetTime) {
 		this.interworkingRuleSetTime = interworkingRuleSetTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -742,6 +788,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public Interwork withInterworkingRuleSetTime(LocalDateTime interworkingRuleSetTime) {
 		this.interworkingRuleSetTime = interworkingRuleSetTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -763,6 +810,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public void  setFirewallRuleSetURI(String firewallRuleSetURI) {
 		this.firewallRuleSetURI = firewallRuleSetURI;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -774,6 +822,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public Interwork withFirewallRuleSetURI(String firewallRuleSetURI) {
 		this.firewallRuleSetURI = firewallRuleSetURI;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -799,6 +848,7 @@ A value of '0' indicates that this feature is disabled.
 	 */
 	public void  setFirewallRuleSetInterval(Long firewallRuleSetInterval) {
 		this.firewallRuleSetInterval = firewallRuleSetInterval;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -812,6 +862,7 @@ A value of '0' indicates that this feature is disabled.
 	 */
 	public Interwork withFirewallRuleSetInterval(Long firewallRuleSetInterval) {
 		this.firewallRuleSetInterval = firewallRuleSetInterval;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -849,6 +900,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public void  setFirewallRuleSetTime(LocalDateTime firewallRuleSetTime) {
 		this.firewallRuleSetTime = firewallRuleSetTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -868,6 +920,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public Interwork withFirewallRuleSetTime(LocalDateTime firewallRuleSetTime) {
 		this.firewallRuleSetTime = firewallRuleSetTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -889,6 +942,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public void  setInterworkName(String interworkName) {
 		this.interworkName = interworkName;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -900,6 +954,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public Interwork withInterworkName(String interworkName) {
 		this.interworkName = interworkName;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -921,6 +976,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public void  setProxyServer(String proxyServer) {
 		this.proxyServer = proxyServer;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -932,6 +988,7 @@ If absolute time is not available to the CPE, its behavior MUST be the same as i
 	 */
 	public Interwork withProxyServer(String proxyServer) {
 		this.proxyServer = proxyServer;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -948,6 +1005,19 @@ List of available Networks for routing calls.
 		return networks;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+List of available Networks for routing calls.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewNetworks() {
+		return networks == null ? Collections.emptyList() : networks;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -958,6 +1028,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setNetworks(Collection<String> networks) {
 		this.networks = networks;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -971,6 +1042,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withNetworks(String string) {
 		getNetworks().add(string);
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -992,6 +1064,7 @@ List of available Networks for routing calls.
 	 */
 	public void  setE164Client(String e164Client) {
 		this.e164Client = e164Client;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1003,6 +1076,7 @@ List of available Networks for routing calls.
 	 */
 	public Interwork withE164Client(String e164Client) {
 		this.e164Client = e164Client;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1012,10 +1086,20 @@ List of available Networks for routing calls.
 	 * @return the value
 	 */
 	public Collection<UserInterface> getUserInterfaces() {
-		if (this.userInterfaces == null){ this.userInterfaces=new ArrayList<>();}
+		if (!(this.userInterfaces instanceof InstanceTable)){ this.userInterfaces=InstanceTable.of(this.userInterfaces);}
 		return userInterfaces;
 	}
 
+	/**
+	 * Read the each table entry references a row in the {{object|.SIP.Registrar}} table to identify the User IP address and listening port for the Device and the Network to route calls to.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<UserInterface> viewUserInterfaces() {
+		return userInterfaces == null ? Collections.emptyList() : userInterfaces;
+	}
+
 	/**
 	 * Set the each table entry references a row in the {{object|.SIP.Registrar}} table to identify the User IP address and listening port for the Device and the Network to route calls to.
 	 *
@@ -1042,10 +1126,20 @@ List of available Networks for routing calls.
 	 * @return the value
 	 */
 	public Collection<Map> getMaps() {
-		if (this.maps == null){ this.maps=new ArrayList<>();}
+		if (!(this.maps instanceof InstanceTable)){ this.maps=InstanceTable.of(this.maps);}
 		return maps;
 	}
 
+	/**
+	 * Read the for interworking use cases such as SIP-ISDN PBX plug and ESBC : mapping instance between a Network interface and a User extension.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Map> viewMaps() {
+		return maps == null ? Collections.emptyList() : maps;
+	}
+
 	/**
 	 * Set the for interworking use cases such as SIP-ISDN PBX plug and ESBC : mapping instance between a Network interface and a User extension.
 	 *
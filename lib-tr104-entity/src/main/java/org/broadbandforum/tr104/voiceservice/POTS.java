@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.pots.FXO;
 import org.broadbandforum.tr104.voiceservice.pots.FXS;
 import org.broadbandforum.tr104.voiceservice.pots.Ringer;
@@ -74,6 +76,11 @@ Each entry in the table models an analogue physical interface as defined by {{bi
 	@XmlElement(name = "Ringer")
 	public Ringer ringer;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public POTS() {
 	}
 
@@ -100,6 +107,7 @@ If {{empty}}, indicates that the region is unspecified and the CPE SHOULD use de
 	 */
 	public void  setRegion(String region) {
 		this.region = region;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +121,7 @@ If {{empty}}, indicates that the region is unspecified and the CPE SHOULD use de
 	 */
 	public POTS withRegion(String region) {
 		this.region = region;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -124,10 +133,22 @@ Each entry in the table models an analogue physical interface as defined by {{bi
 	 * @return the value
 	 */
 	public Collection<FXO> getFxos() {
-		if (this.fxos == null){ this.fxos=new ArrayList<>();}
+		if (!(this.fxos instanceof InstanceTable)){ this.fxos=InstanceTable.of(this.fxos);}
 		return fxos;
 	}
 
+	/**
+	 * Read the fxo physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
+
+Each entry in the table models an analogue physical interface as defined by {{bibref|ETSI_ES_203_021}}
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<FXO> viewFxos() {
+		return fxos == null ? Collections.emptyList() : fxos;
+	}
+
 	/**
 	 * Set the fxo physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
 
@@ -160,10 +181,22 @@ Each entry in the table models an analogue physical interface as defined by {{bi
 	 * @return the value
 	 */
 	public Collection<FXS> getFxss() {
-		if (this.fxss == null){ this.fxss=new ArrayList<>();}
+		if (!(this.fxss instanceof InstanceTable)){ this.fxss=InstanceTable.of(this.fxss);}
 		return fxss;
 	}
 
+	/**
+	 * Read the fxs physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
+
+Each entry in the table models an analogue physical interface as defined by {{bibref|ETSI_ES_201_970}}
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<FXS> viewFxss() {
+		return fxss == null ? Collections.emptyList() : fxss;
+	}
+
 	/**
 	 * Set the fxs physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
 
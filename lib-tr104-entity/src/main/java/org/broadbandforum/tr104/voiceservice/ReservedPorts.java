@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The list of IP ports on the CPE WAN and LAN interfaces that will not be allocated by the ACS and therefore are available to be allocated by the CPE. The CPE can dynamically allocate ports from this range for things like signaling listening ports or local RTP ports.
@@ -64,6 +66,11 @@ Example:
 	@XmlList
 	public Collection<String> lanPortRange;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ReservedPorts() {
 	}
 
@@ -83,6 +90,21 @@ Example:
 		return wanPortRange;
 	}
 
+	/**
+	 * Read the range of ports reserved for use by the CPE on any WAN interface. {{list}} Each range consists of a ''Start'' part consisting of 1 to n digits (string representation) followed by an OPTIONAL ''End'' part consisting of 1 to n digits prefixed by a "-" symbol.
+
+Example:
+
+: 12345-12350,23580
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewWanPortRange() {
+		return wanPortRange == null ? Collections.emptyList() : wanPortRange;
+	}
+
 	/**
 	 * Set the range of ports reserved for use by the CPE on any WAN interface. {{list}} Each range consists of a ''Start'' part consisting of 1 to n digits (string representation) followed by an OPTIONAL ''End'' part consisting of 1 to n digits prefixed by a "-" symbol.
 
@@ -95,6 +117,7 @@ Example:
 	 */
 	public void  setWanPortRange(Collection<String> wanPortRange) {
 		this.wanPortRange = wanPortRange;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +133,7 @@ Example:
 	 */
 	public ReservedPorts withWanPortRange(String string) {
 		getWanPortRange().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -128,6 +152,21 @@ Example:
 		return lanPortRange;
 	}
 
+	/**
+	 * Read the range of ports reserved for use by the CPE on any LAN interfaces. {{list}} Each range consists of a ''Start'' part consisting of 1 to n digits (string representation) followed by an OPTIONAL ''End'' part consisting of 1 to n digits prefixed by a "-" symbol.
+
+Example:
+
+: 12345-12350,23580
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLanPortRange() {
+		return lanPortRange == null ? Collections.emptyList() : lanPortRange;
+	}
+
 	/**
 	 * Set the range of ports reserved for use by the CPE on any LAN interfaces. {{list}} Each range consists of a ''Start'' part consisting of 1 to n digits (string representation) followed by an OPTIONAL ''End'' part consisting of 1 to n digits prefixed by a "-" symbol.
 
@@ -140,6 +179,7 @@ Example:
 	 */
 	public void  setLanPortRange(Collection<String> lanPortRange) {
 		this.lanPortRange = lanPortRange;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -155,6 +195,7 @@ Example:
 	 */
 	public ReservedPorts withLanPortRange(String string) {
 		getLanPortRange().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
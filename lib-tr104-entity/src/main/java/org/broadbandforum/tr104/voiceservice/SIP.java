@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.sip.Client;
 import org.broadbandforum.tr104.voiceservice.sip.Network;
 import org.broadbandforum.tr104.voiceservice.sip.Proxy;
@@ -96,10 +97,28 @@ For CPE use cases where {{object|.CallControl}} is used to map network-facing to
 	 * @return the value
 	 */
 	public Collection<Client> getClients() {
-		if (this.clients == null){ this.clients=new ArrayList<>();}
+		if (!(this.clients instanceof InstanceTable)){ this.clients=InstanceTable.of(this.clients);}
 		return clients;
 	}
 
+	/**
+	 * Read the sip client table (a Client as described in {{bibref|TR-104i2|Section 4.2}}). Each SIP client maintains its identity-to-location (i.e., RegisterURI-to-ContactURI) binding for SIP signaling exchanged between the client and the network.
+
+For CPE use cases where {{object|.CallControl}} is used to map network-facing to user-facing objects, the relationship between the SIP client object and its associated {{object|.CallControl.Line}} object(s) is determined by the {{param|RegisterMode}} parameter, as follows:
+
+: - In case of RFC3261-style explicit registration of SIP AoRs, only a single line shall be associated with each SIP client.
+
+: - In case of RFC6140 or IMS/TISPAN-style registration, multiple lines can be associated with each SIP client. The set of lines associated with a SIP client constitute an 'identity set'. In this case, registering the single SIP client implicitly registers the identities of all associated lines.
+
+: - In the case where the client does not register with the network ({{param|RegisterMode}} is {{enum|STATIC|RegisterMode}}), multiple lines can be associated with each SIP client.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Client> viewClients() {
+		return clients == null ? Collections.emptyList() : clients;
+	}
+
 	/**
 	 * Set the sip client table (a Client as described in {{bibref|TR-104i2|Section 4.2}}). Each SIP client maintains its identity-to-location (i.e., RegisterURI-to-ContactURI) binding for SIP signaling exchanged between the client and the network.
 
@@ -142,10 +161,20 @@ For CPE use cases where {{object|.CallControl}} is used to map network-facing to
 	 * @return the value
 	 */
 	public Collection<Network> getNetworks() {
-		if (this.networks == null){ this.networks=new ArrayList<>();}
+		if (!(this.networks instanceof InstanceTable)){ this.networks=InstanceTable.of(this.networks);}
 		return networks;
 	}
 
+	/**
+	 * Read the this object models a SIP network (a network as described in {{bibref|TR-104i2|Section 4.2}}). SIP networks are used by SIP {{object|#.Client}} objects so that common parameters do not have to be provisioned multiple times.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Network> viewNetworks() {
+		return networks == null ? Collections.emptyList() : networks;
+	}
+
 	/**
 	 * Set the this object models a SIP network (a network as described in {{bibref|TR-104i2|Section 4.2}}). SIP networks are used by SIP {{object|#.Client}} objects so that common parameters do not have to be provisioned multiple times.
 	 *
@@ -172,10 +201,20 @@ For CPE use cases where {{object|.CallControl}} is used to map network-facing to
 	 * @return the value
 	 */
 	public Collection<Proxy> getProxies() {
-		if (this.proxies == null){ this.proxies=new ArrayList<>();}
+		if (!(this.proxies instanceof InstanceTable)){ this.proxies=InstanceTable.of(this.proxies);}
 		return proxies;
 	}
 
+	/**
+	 * Read the global SIP parameters used by the CPE when acting as proxy for SIP user agents.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Proxy> viewProxies() {
+		return proxies == null ? Collections.emptyList() : proxies;
+	}
+
 	/**
 	 * Set the global SIP parameters used by the CPE when acting as proxy for SIP user agents.
 	 *
@@ -202,10 +241,20 @@ For CPE use cases where {{object|.CallControl}} is used to map network-facing to
 	 * @return the value
 	 */
 	public Collection<Registrar> getRegistrars() {
-		if (this.registrars == null){ this.registrars=new ArrayList<>();}
+		if (!(this.registrars instanceof InstanceTable)){ this.registrars=InstanceTable.of(this.registrars);}
 		return registrars;
 	}
 
+	/**
+	 * Read the global SIP parameters used by the CPE when acting as registrar server for externally connected SIP user agents. This object also contains the global SIP parameters used by the CPE when it acts as static identity-to-location binding database for externally connected SIP user agents that don't register (i.e. static-mode SIP-PBX).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Registrar> viewRegistrars() {
+		return registrars == null ? Collections.emptyList() : registrars;
+	}
+
 	/**
 	 * Set the global SIP parameters used by the CPE when acting as registrar server for externally connected SIP user agents. This object also contains the global SIP parameters used by the CPE when it acts as static identity-to-location binding database for externally connected SIP user agents that don't register (i.e. static-mode SIP-PBX).
 	 *
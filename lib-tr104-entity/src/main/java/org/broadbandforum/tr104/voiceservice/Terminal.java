@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.terminal.Audio;
 import org.broadbandforum.tr104.voiceservice.terminal.ButtonMap;
 import org.broadbandforum.tr104.voiceservice.terminal.DiagTests;
@@ -111,6 +113,16 @@ Support of this object is appropriate only for a device that has programmable bu
 	@XmlElement(name = "DiagTests")
 	public DiagTests diagTests;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Terminal() {
 	}
 
@@ -133,6 +145,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -144,6 +157,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public Terminal withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -165,6 +179,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -176,6 +191,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public Terminal withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -197,6 +213,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -208,6 +225,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public Terminal withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -229,6 +247,8 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -240,6 +260,8 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public Terminal withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -261,6 +283,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public void  setToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -272,6 +295,7 @@ Support of this object is appropriate only for a device that has programmable bu
 	 */
 	public Terminal withToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -281,10 +305,20 @@ Support of this object is appropriate only for a device that has programmable bu
 	 * @return the value
 	 */
 	public Collection<Audio> getAudios() {
-		if (this.audios == null){ this.audios=new ArrayList<>();}
+		if (!(this.audios instanceof InstanceTable)){ this.audios=InstanceTable.of(this.audios);}
 		return audios;
 	}
 
+	/**
+	 * Read the this object models the audio outputs of a telephony terminal.(ex. Handset, handsfree, ...)
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Audio> viewAudios() {
+		return audios == null ? Collections.emptyList() : audios;
+	}
+
 	/**
 	 * Set the this object models the audio outputs of a telephony terminal.(ex. Handset, handsfree, ...)
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.tone.Description;
 import org.broadbandforum.tr104.voiceservice.tone.EventProfile;
 import org.broadbandforum.tr104.voiceservice.tone.Pattern;
@@ -78,6 +80,11 @@ The defaults given for this object apply only to explicit creation of an instanc
 	@CWMPParameter(access = "readWrite")
 	public Collection<EventProfile> eventProfiles;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Tone() {
 	}
 
@@ -100,6 +107,7 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 */
 	public void  setDefautEventProfile(String defautEventProfile) {
 		this.defautEventProfile = defautEventProfile;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +119,7 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 */
 	public Tone withDefautEventProfile(String defautEventProfile) {
 		this.defautEventProfile = defautEventProfile;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,10 +131,22 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 * @return the value
 	 */
 	public Collection<Description> getDescriptions() {
-		if (this.descriptions == null){ this.descriptions=new ArrayList<>();}
+		if (!(this.descriptions instanceof InstanceTable)){ this.descriptions=InstanceTable.of(this.descriptions);}
 		return descriptions;
 	}
 
+	/**
+	 * Read the each entry in this table defines the contents of an individual tone.
+
+The defaults given for this object apply only to explicit creation of an instance of this object and not to automatic creation of instances of this object due to creation of a parent object.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Description> viewDescriptions() {
+		return descriptions == null ? Collections.emptyList() : descriptions;
+	}
+
 	/**
 	 * Set the each entry in this table defines the contents of an individual tone.
 
@@ -160,10 +181,24 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 * @return the value
 	 */
 	public Collection<Pattern> getPatterns() {
-		if (this.patterns == null){ this.patterns=new ArrayList<>();}
+		if (!(this.patterns instanceof InstanceTable)){ this.patterns=InstanceTable.of(this.patterns);}
 		return patterns;
 	}
 
+	/**
+	 * Read the each entry in the table defines a single phase in an overall tone pattern.  Each phase identifies the entry that corresponds to the next phase.
+
+Each entry in the table refers to the entry that corresponds to the next phase of the pattern.  The table MAY be set up such that entries form loops, or MAY end after a finite sequence.
+
+The defaults given for this object apply only to explicit creation of an instance of this object and not to automatic creation of instances of this object due to creation of a parent object.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Pattern> viewPatterns() {
+		return patterns == null ? Collections.emptyList() : patterns;
+	}
+
 	/**
 	 * Set the each entry in the table defines a single phase in an overall tone pattern.  Each phase identifies the entry that corresponds to the next phase.
 
@@ -198,10 +233,20 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 * @return the value
 	 */
 	public Collection<EventProfile> getEventProfiles() {
-		if (this.eventProfiles == null){ this.eventProfiles=new ArrayList<>();}
+		if (!(this.eventProfiles instanceof InstanceTable)){ this.eventProfiles=InstanceTable.of(this.eventProfiles);}
 		return eventProfiles;
 	}
 
+	/**
+	 * Read the configuration profile for tone events.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<EventProfile> viewEventProfiles() {
+		return eventProfiles == null ? Collections.emptyList() : eventProfiles;
+	}
+
 	/**
 	 * Set the configuration profile for tone events.
 	 *
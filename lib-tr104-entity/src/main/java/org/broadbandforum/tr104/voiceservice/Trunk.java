@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Trunk table.
@@ -166,6 +169,16 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	@Size(max = 256)
 	public String provider;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Trunk() {
 	}
 
@@ -188,6 +201,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -199,6 +213,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -220,6 +235,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -231,6 +247,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -252,6 +269,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -263,6 +281,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -284,6 +303,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -295,6 +316,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -316,6 +339,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -327,6 +351,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -348,6 +373,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -359,6 +385,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -385,6 +412,29 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 		return ddiRange;
 	}
 
+	/**
+	 * Read the {{list}} Each range consists of a ''Start'' part consisting of 1 to n digits (string representation) followed by an OPTIONAL ''End'' part consisting of 1 to n digits prefixed by a "-" symbol.
+
+Examples:
+
+:0123456789
+
+:0123456700-0123456720
+
+Each time this value is changed, the table of Lines managed by the {{object|.Trunk}} is automatically adapted and each value of the {{param}} MUST be represented in corresponding {{param|.CallControl.Line.{i}.DirectoryNumber}} parameter.
+
+If this trunk has a {{object|.SIP.Client.}} provider and {{param|.SIP.Client.{i}.E164Format}} is set to {{true}}, full E.164 numbers with country code (but without "+" prefix) MUST be used.
+
+This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDdiRange() {
+		return ddiRange == null ? Collections.emptyList() : ddiRange;
+	}
+
 	/**
 	 * Set the {{list}} Each range consists of a ''Start'' part consisting of 1 to n digits (string representation) followed by an OPTIONAL ''End'' part consisting of 1 to n digits prefixed by a "-" symbol.
 
@@ -405,6 +455,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setDdiRange(Collection<String> ddiRange) {
 		this.ddiRange = ddiRange;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -428,6 +479,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withDdiRange(String string) {
 		getDdiRange().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -449,6 +501,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setLineObjectCreation(Boolean lineObjectCreation) {
 		this.lineObjectCreation = lineObjectCreation;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -460,6 +513,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withLineObjectCreation(Boolean lineObjectCreation) {
 		this.lineObjectCreation = lineObjectCreation;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -481,6 +535,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setMaxChannels(Long maxChannels) {
 		this.maxChannels = maxChannels;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -492,6 +547,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withMaxChannels(Long maxChannels) {
 		this.maxChannels = maxChannels;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -513,6 +569,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setMaxOutboundChannelCount(Integer maxOutboundChannelCount) {
 		this.maxOutboundChannelCount = maxOutboundChannelCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -524,6 +581,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withMaxOutboundChannelCount(Integer maxOutboundChannelCount) {
 		this.maxOutboundChannelCount = maxOutboundChannelCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -545,6 +603,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setMaxInboundChannelCount(Integer maxInboundChannelCount) {
 		this.maxInboundChannelCount = maxInboundChannelCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -556,6 +615,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withMaxInboundChannelCount(Integer maxInboundChannelCount) {
 		this.maxInboundChannelCount = maxInboundChannelCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -577,6 +637,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setCodecPriority(String codecPriority) {
 		this.codecPriority = codecPriority;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -588,6 +649,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withCodecPriority(String codecPriority) {
 		this.codecPriority = codecPriority;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -617,6 +679,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setProvider(String provider) {
 		this.provider = provider;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -632,6 +695,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Trunk withProvider(String provider) {
 		this.provider = provider;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.voipprofile.FaxT38;
 import org.broadbandforum.tr104.voiceservice.voipprofile.RTP;
 
@@ -140,6 +143,16 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	@XmlElement(name = "FaxT38")
 	public FaxT38 faxT38;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VoIPProfile() {
 	}
 
@@ -162,6 +175,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -173,6 +187,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public VoIPProfile withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -194,6 +209,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -205,6 +221,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public VoIPProfile withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -226,6 +243,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -237,6 +255,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public VoIPProfile withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -258,6 +277,8 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -269,6 +290,8 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public VoIPProfile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -287,6 +310,21 @@ If {{param|DTMFMethodG711}} is non-empty, then this parameter applies only when
 		return dtmFMethod;
 	}
 
+	/**
+	 * Read the {{list}}  Method by which DTMF digits MUST be passed. 
+
+Enumerated value must be one of [InBand, RFC4733, SIPInfo]
+
+If {{param|DTMFMethodG711}} is non-empty, then this parameter applies only when the current codec is not G.711.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDtmFMethod() {
+		return dtmFMethod == null ? Collections.emptyList() : dtmFMethod;
+	}
+
 	/**
 	 * Set the {{list}}  Method by which DTMF digits MUST be passed. 
 
@@ -299,6 +337,7 @@ If {{param|DTMFMethodG711}} is non-empty, then this parameter applies only when
 	 */
 	public void  setDtmFMethod(Collection<String> dtmFMethod) {
 		this.dtmFMethod = dtmFMethod;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -314,6 +353,7 @@ If {{param|DTMFMethodG711}} is non-empty, then this parameter applies only when
 	 */
 	public VoIPProfile withDtmFMethod(String string) {
 		getDtmFMethod().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -339,6 +379,7 @@ If {{empty}} indicates that the value of {{param|DTMFMethod}} is to apply whethe
 	 */
 	public void  setDtmFMethodG711(String dtmFMethodG711) {
 		this.dtmFMethodG711 = dtmFMethodG711;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -352,6 +393,7 @@ If {{empty}} indicates that the value of {{param|DTMFMethod}} is to apply whethe
 	 */
 	public VoIPProfile withDtmFMethodG711(String dtmFMethodG711) {
 		this.dtmFMethodG711 = dtmFMethodG711;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -373,6 +415,7 @@ If {{empty}} indicates that the value of {{param|DTMFMethod}} is to apply whethe
 	 */
 	public void  setQimodelUsed(String qimodelUsed) {
 		this.qimodelUsed = qimodelUsed;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -384,6 +427,7 @@ If {{empty}} indicates that the value of {{param|DTMFMethod}} is to apply whethe
 	 */
 	public VoIPProfile withQimodelUsed(String qimodelUsed) {
 		this.qimodelUsed = qimodelUsed;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -405,6 +449,7 @@ If {{empty}} indicates that the value of {{param|DTMFMethod}} is to apply whethe
 	 */
 	public void  setQicalculationInterval(Long qicalculationInterval) {
 		this.qicalculationInterval = qicalculationInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -416,6 +461,7 @@ If {{empty}} indicates that the value of {{param|DTMFMethod}} is to apply whethe
 	 */
 	public VoIPProfile withQicalculationInterval(Long qicalculationInterval) {
 		this.qicalculationInterval = qicalculationInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -441,6 +487,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public void  setNumberOfWorstQIValues(Long numberOfWorstQIValues) {
 		this.numberOfWorstQIValues = numberOfWorstQIValues;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -454,6 +501,7 @@ The CPE MUST permit {{param}} to be set to any value in the range from 0 to {{pa
 	 */
 	public VoIPProfile withNumberOfWorstQIValues(Long numberOfWorstQIValues) {
 		this.numberOfWorstQIValues = numberOfWorstQIValues;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.callcontrol;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.callcontrol.callingfeatures.Set;
 
 	/**
@@ -56,10 +57,20 @@ public class CallingFeatures {
 	 * @return the value
 	 */
 	public Collection<Set> getSets() {
-		if (this.sets == null){ this.sets=new ArrayList<>();}
+		if (!(this.sets instanceof InstanceTable)){ this.sets=InstanceTable.of(this.sets);}
 		return sets;
 	}
 
+	/**
+	 * Read the this object models a set of calling features that can be applied in {{object|.CallControl.Line.}} or {{object|.CallControl.Extension.}} objects.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Set> viewSets() {
+		return sets == null ? Collections.emptyList() : sets;
+	}
+
 	/**
 	 * Set the this object models a set of calling features that can be applied in {{object|.CallControl.Line.}} or {{object|.CallControl.Extension.}} objects.
 	 *
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.callcontrol.extension.Stats;
 
 	/**
@@ -191,6 +193,16 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Extension() {
 	}
 
@@ -213,6 +225,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -224,6 +237,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public Extension withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -245,6 +259,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -256,6 +271,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public Extension withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -277,6 +293,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -288,6 +305,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public Extension withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -309,6 +327,8 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -320,6 +340,8 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public Extension withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -341,6 +363,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public void  setCallStatus(String callStatus) {
 		this.callStatus = callStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -352,6 +375,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public Extension withCallStatus(String callStatus) {
 		this.callStatus = callStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -373,6 +397,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -384,6 +409,7 @@ The CPE MUST reset the extension's Stats parameters (unless otherwise stated in
 	 */
 	public Extension withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -409,6 +435,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -422,6 +449,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public Extension withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -443,6 +471,8 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public void  setExtensionNumber(String extensionNumber) {
 		this.extensionNumber = extensionNumber;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -454,6 +484,8 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public Extension withExtensionNumber(String extensionNumber) {
 		this.extensionNumber = extensionNumber;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -479,6 +511,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public void  setProvider(String provider) {
 		this.provider = provider;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -492,6 +525,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public Extension withProvider(String provider) {
 		this.provider = provider;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -517,6 +551,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public void  setNumberingPlan(String numberingPlan) {
 		this.numberingPlan = numberingPlan;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -530,6 +565,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public Extension withNumberingPlan(String numberingPlan) {
 		this.numberingPlan = numberingPlan;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -555,6 +591,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public void  setCallingFeatures(String callingFeatures) {
 		this.callingFeatures = callingFeatures;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -568,6 +605,7 @@ This name will also be used for CallerIdName functionality and for displaying on
 	 */
 	public Extension withCallingFeatures(String callingFeatures) {
 		this.callingFeatures = callingFeatures;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -593,6 +631,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public void  setCallWaitingStatus(String callWaitingStatus) {
 		this.callWaitingStatus = callWaitingStatus;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -606,6 +645,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public Extension withCallWaitingStatus(String callWaitingStatus) {
 		this.callWaitingStatus = callWaitingStatus;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -631,6 +671,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public void  setConferenceCallingStatus(String conferenceCallingStatus) {
 		this.conferenceCallingStatus = conferenceCallingStatus;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -644,6 +685,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public Extension withConferenceCallingStatus(String conferenceCallingStatus) {
 		this.conferenceCallingStatus = conferenceCallingStatus;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -681,6 +723,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public void  setConferenceCallingSessionCount(Long conferenceCallingSessionCount) {
 		this.conferenceCallingSessionCount = conferenceCallingSessionCount;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -700,6 +743,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public Extension withConferenceCallingSessionCount(Long conferenceCallingSessionCount) {
 		this.conferenceCallingSessionCount = conferenceCallingSessionCount;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -725,6 +769,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public void  setVoiceMail(String voiceMail) {
 		this.voiceMail = voiceMail;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -738,6 +783,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint manage
 	 */
 	public Extension withVoiceMail(String voiceMail) {
 		this.voiceMail = voiceMail;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
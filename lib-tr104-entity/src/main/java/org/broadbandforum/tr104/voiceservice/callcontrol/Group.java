@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.callcontrol;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object models an extension as a group of extensions.
@@ -77,6 +80,16 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	@CWMPParameter(access = "readWrite", units = "seconds")
 	public Long ringTimeout;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Group() {
 	}
 
@@ -99,6 +112,8 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -110,6 +125,8 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public Group withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -126,6 +143,19 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 		return extensions;
 	}
 
+	/**
+	 * Read the {{list}} If this parameter is null the group is treated as a group that contains all extensions. 
+
+{{reference}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewExtensions() {
+		return extensions == null ? Collections.emptyList() : extensions;
+	}
+
 	/**
 	 * Set the {{list}} If this parameter is null the group is treated as a group that contains all extensions. 
 
@@ -136,6 +166,7 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public void  setExtensions(Collection<String> extensions) {
 		this.extensions = extensions;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -149,6 +180,7 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public Group withExtensions(String string) {
 		getExtensions().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -170,6 +202,7 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public void  setRingType(String ringType) {
 		this.ringType = ringType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -181,6 +214,7 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public Group withRingType(String ringType) {
 		this.ringType = ringType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -206,6 +240,7 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public void  setRingTimeout(Long ringTimeout) {
 		this.ringTimeout = ringTimeout;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -219,6 +254,7 @@ Only applicable if {{param|RingType}} = {{enum|Hierarchical|RingType}} or {{enum
 	 */
 	public Group withRingTimeout(Long ringTimeout) {
 		this.ringTimeout = ringTimeout;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The {{object}} is a table that is used to control which extensions ring when an incoming call is received.
@@ -100,6 +102,16 @@ When all these extensions have rejected the call or did not reply, the next orde
 	@CWMPParameter(access = "readWrite", units = "seconds")
 	public Long timeout;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IncomingMap() {
 	}
 
@@ -122,6 +134,7 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -133,6 +146,7 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public IncomingMap withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -154,6 +168,8 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -165,6 +181,8 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public IncomingMap withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -190,6 +208,8 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public void  setLine(String line) {
 		this.line = line;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -203,6 +223,8 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public IncomingMap withLine(String line) {
 		this.line = line;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -228,6 +250,8 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public void  setExtension(String extension) {
 		this.extension = extension;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -241,6 +265,8 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public IncomingMap withExtension(String extension) {
 		this.extension = extension;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -270,6 +296,7 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -285,6 +312,7 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public IncomingMap withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -306,6 +334,7 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -317,6 +346,7 @@ When all these extensions have rejected the call or did not reply, the next orde
 	 */
 	public IncomingMap withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
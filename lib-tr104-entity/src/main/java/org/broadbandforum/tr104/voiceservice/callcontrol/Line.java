@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.callcontrol.line.Stats;
 
 	/**
@@ -125,6 +127,16 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Line() {
 	}
 
@@ -147,6 +159,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -158,6 +171,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -179,6 +193,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -190,6 +205,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -211,6 +227,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -222,6 +239,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -243,6 +261,8 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -254,6 +274,8 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -275,6 +297,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setCallStatus(String callStatus) {
 		this.callStatus = callStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -286,6 +309,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withCallStatus(String callStatus) {
 		this.callStatus = callStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -307,6 +331,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -318,6 +343,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -339,6 +365,8 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setDirectoryNumber(String directoryNumber) {
 		this.directoryNumber = directoryNumber;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -350,6 +378,8 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withDirectoryNumber(String directoryNumber) {
 		this.directoryNumber = directoryNumber;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -375,6 +405,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setProvider(String provider) {
 		this.provider = provider;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -388,6 +419,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withProvider(String provider) {
 		this.provider = provider;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -413,6 +445,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public void  setCallingFeatures(String callingFeatures) {
 		this.callingFeatures = callingFeatures;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -426,6 +459,7 @@ The CPE MUST reset the line's Stats parameters (unless otherwise stated in indiv
 	 */
 	public Line withCallingFeatures(String callingFeatures) {
 		this.callingFeatures = callingFeatures;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
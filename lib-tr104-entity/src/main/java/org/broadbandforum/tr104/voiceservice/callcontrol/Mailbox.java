@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Voice mail configuration related to a particular extension.
@@ -131,6 +133,16 @@ public class Mailbox {
 	@Size(max = 256)
 	public String smtPFrom;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Mailbox() {
 	}
 
@@ -153,6 +165,7 @@ public class Mailbox {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -164,6 +177,7 @@ public class Mailbox {
 	 */
 	public Mailbox withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -185,6 +199,8 @@ public class Mailbox {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -196,6 +212,8 @@ public class Mailbox {
 	 */
 	public Mailbox withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -217,6 +235,7 @@ public class Mailbox {
 	 */
 	public void  setMaxMsg(Long maxMsg) {
 		this.maxMsg = maxMsg;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -228,6 +247,7 @@ public class Mailbox {
 	 */
 	public Mailbox withMaxMsg(Long maxMsg) {
 		this.maxMsg = maxMsg;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -249,6 +269,7 @@ public class Mailbox {
 	 */
 	public void  setMaxMessageTime(Long maxMessageTime) {
 		this.maxMessageTime = maxMessageTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -260,6 +281,7 @@ public class Mailbox {
 	 */
 	public Mailbox withMaxMessageTime(Long maxMessageTime) {
 		this.maxMessageTime = maxMessageTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -281,6 +303,7 @@ public class Mailbox {
 	 */
 	public void  setMinSize(Long minSize) {
 		this.minSize = minSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -292,6 +315,7 @@ public class Mailbox {
 	 */
 	public Mailbox withMinSize(Long minSize) {
 		this.minSize = minSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -313,6 +337,7 @@ public class Mailbox {
 	 */
 	public void  setSmtPServerAddress(String smtPServerAddress) {
 		this.smtPServerAddress = smtPServerAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -324,6 +349,7 @@ public class Mailbox {
 	 */
 	public Mailbox withSmtPServerAddress(String smtPServerAddress) {
 		this.smtPServerAddress = smtPServerAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -345,6 +371,7 @@ public class Mailbox {
 	 */
 	public void  setSmtPServerPort(Long smtPServerPort) {
 		this.smtPServerPort = smtPServerPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -356,6 +383,7 @@ public class Mailbox {
 	 */
 	public Mailbox withSmtPServerPort(Long smtPServerPort) {
 		this.smtPServerPort = smtPServerPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -377,6 +405,7 @@ public class Mailbox {
 	 */
 	public void  setSmtPUser(String smtPUser) {
 		this.smtPUser = smtPUser;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -388,6 +417,7 @@ public class Mailbox {
 	 */
 	public Mailbox withSmtPUser(String smtPUser) {
 		this.smtPUser = smtPUser;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -409,6 +439,7 @@ public class Mailbox {
 	 */
 	public void  setSmtPPassword(String smtPPassword) {
 		this.smtPPassword = smtPPassword;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -420,6 +451,7 @@ public class Mailbox {
 	 */
 	public Mailbox withSmtPPassword(String smtPPassword) {
 		this.smtPPassword = smtPPassword;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -441,6 +473,7 @@ public class Mailbox {
 	 */
 	public void  setSmtPAuthenticationType(String smtPAuthenticationType) {
 		this.smtPAuthenticationType = smtPAuthenticationType;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -452,6 +485,7 @@ public class Mailbox {
 	 */
 	public Mailbox withSmtPAuthenticationType(String smtPAuthenticationType) {
 		this.smtPAuthenticationType = smtPAuthenticationType;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -473,6 +507,7 @@ public class Mailbox {
 	 */
 	public void  setSmtPFrom(String smtPFrom) {
 		this.smtPFrom = smtPFrom;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -484,6 +519,7 @@ public class Mailbox {
 	 */
 	public Mailbox withSmtPFrom(String smtPFrom) {
 		this.smtPFrom = smtPFrom;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.callcontrol;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.callcontrol.numberingplan.PrefixInfo;
 
 	/**
@@ -134,6 +136,16 @@ The defaults given for this object apply only to explicit creation of an instanc
 	@CWMPParameter(access = "readWrite")
 	public Collection<PrefixInfo> prefixInfos;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public NumberingPlan() {
 	}
 
@@ -156,6 +168,8 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -167,6 +181,8 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 */
 	public NumberingPlan withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -196,6 +212,7 @@ In practice, searching {{object|.CallControl.NumberingPlan.{i}.PrefixInfo.{i}.}}
 	 */
 	public void  setMinimumNumberOfDigits(Long minimumNumberOfDigits) {
 		this.minimumNumberOfDigits = minimumNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -211,6 +228,7 @@ In practice, searching {{object|.CallControl.NumberingPlan.{i}.PrefixInfo.{i}.}}
 	 */
 	public NumberingPlan withMinimumNumberOfDigits(Long minimumNumberOfDigits) {
 		this.minimumNumberOfDigits = minimumNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -232,6 +250,7 @@ In practice, searching {{object|.CallControl.NumberingPlan.{i}.PrefixInfo.{i}.}}
 	 */
 	public void  setMaximumNumberOfDigits(Long maximumNumberOfDigits) {
 		this.maximumNumberOfDigits = maximumNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -243,6 +262,7 @@ In practice, searching {{object|.CallControl.NumberingPlan.{i}.PrefixInfo.{i}.}}
 	 */
 	public NumberingPlan withMaximumNumberOfDigits(Long maximumNumberOfDigits) {
 		this.maximumNumberOfDigits = maximumNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -264,6 +284,7 @@ In practice, searching {{object|.CallControl.NumberingPlan.{i}.PrefixInfo.{i}.}}
 	 */
 	public void  setInterDigitTimerStd(Long interDigitTimerStd) {
 		this.interDigitTimerStd = interDigitTimerStd;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -275,6 +296,7 @@ In practice, searching {{object|.CallControl.NumberingPlan.{i}.PrefixInfo.{i}.}}
 	 */
 	public NumberingPlan withInterDigitTimerStd(Long interDigitTimerStd) {
 		this.interDigitTimerStd = interDigitTimerStd;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -300,6 +322,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public void  setInterDigitTimerOpen(Long interDigitTimerOpen) {
 		this.interDigitTimerOpen = interDigitTimerOpen;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -313,6 +336,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public NumberingPlan withInterDigitTimerOpen(Long interDigitTimerOpen) {
 		this.interDigitTimerOpen = interDigitTimerOpen;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -334,6 +358,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public void  setTerminationDigit(String terminationDigit) {
 		this.terminationDigit = terminationDigit;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -345,6 +370,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public NumberingPlan withTerminationDigit(String terminationDigit) {
 		this.terminationDigit = terminationDigit;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -370,6 +396,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public void  setInvalidNumberTone(String invalidNumberTone) {
 		this.invalidNumberTone = invalidNumberTone;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -383,6 +410,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public NumberingPlan withInvalidNumberTone(String invalidNumberTone) {
 		this.invalidNumberTone = invalidNumberTone;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -404,6 +432,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public void  setPrefixInfoMaxEntries(Long prefixInfoMaxEntries) {
 		this.prefixInfoMaxEntries = prefixInfoMaxEntries;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -415,6 +444,7 @@ This timer is only applicable to "open numbering", where the exact number of dig
 	 */
 	public NumberingPlan withPrefixInfoMaxEntries(Long prefixInfoMaxEntries) {
 		this.prefixInfoMaxEntries = prefixInfoMaxEntries;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -430,10 +460,26 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 * @return the value
 	 */
 	public Collection<PrefixInfo> getPrefixInfos() {
-		if (this.prefixInfos == null){ this.prefixInfos=new ArrayList<>();}
+		if (!(this.prefixInfos instanceof InstanceTable)){ this.prefixInfos=InstanceTable.of(this.prefixInfos);}
 		return prefixInfos;
 	}
 
+	/**
+	 * Read the each entry in this table contains information related to an individual prefix in the NumberingPlan.
+
+It is anticipated that once the minimum number of digits has been received, the VoIP device will search this prefix list every time a new digit is received. If no new entry is found, then the object that was previously found will be used instead.
+
+If supported, {{param|.CallControl.NumberingPlan.{i}.PrefixInfoMaxEntries}} and {{param|.CallControl.NumberingPlan.{i}.PrefixInfoNumberOfEntries}} MUST be present.
+
+The defaults given for this object apply only to explicit creation of an instance of this object and not to automatic creation of instances of this object due to creation of a parent object.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PrefixInfo> viewPrefixInfos() {
+		return prefixInfos == null ? Collections.emptyList() : prefixInfos;
+	}
+
 	/**
 	 * Set the each entry in this table contains information related to an individual prefix in the NumberingPlan.
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The {{object}} is a table that is used to control which line is used when an extension makes a call.
@@ -101,6 +103,16 @@ If the first line is not available, using the next one will be attempted.
 	@Size(min = 1)
 	public Long order = 1L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public OutgoingMap() {
 	}
 
@@ -123,6 +135,7 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +147,7 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public OutgoingMap withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -155,6 +169,8 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -166,6 +182,8 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public OutgoingMap withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -187,6 +205,7 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public void  setCliPNoScreeningNumber(String cliPNoScreeningNumber) {
 		this.cliPNoScreeningNumber = cliPNoScreeningNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -198,6 +217,7 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public OutgoingMap withCliPNoScreeningNumber(String cliPNoScreeningNumber) {
 		this.cliPNoScreeningNumber = cliPNoScreeningNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -223,6 +243,8 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public void  setExtension(String extension) {
 		this.extension = extension;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -236,6 +258,8 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public OutgoingMap withExtension(String extension) {
 		this.extension = extension;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -269,6 +293,8 @@ Note: The Line to be used for an outgoing call can be overridden by the {{object
 	 */
 	public void  setLine(String line) {
 		this.line = line;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -286,6 +312,8 @@ Note: The Line to be used for an outgoing call can be overridden by the {{object
 	 */
 	public OutgoingMap withLine(String line) {
 		this.line = line;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -311,6 +339,7 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -324,6 +353,7 @@ If the first line is not available, using the next one will be attempted.
 	 */
 	public OutgoingMap withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.callcontrol.callingfeatures;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.callcontrol.callingfeatures.set.CFT;
 import org.broadbandforum.tr104.voiceservice.callcontrol.callingfeatures.set.FollowMe;
 import org.broadbandforum.tr104.voiceservice.callcontrol.callingfeatures.set.SCF;
@@ -335,6 +337,16 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	@XmlElement(name = "Voice2Mail")
 	public Voice2Mail voice2Mail;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Set() {
 	}
 
@@ -357,6 +369,8 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -368,6 +382,8 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 */
 	public Set withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -389,6 +405,7 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 */
 	public void  setCallerIDEnable(Boolean callerIDEnable) {
 		this.callerIDEnable = callerIDEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -400,6 +417,7 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 */
 	public Set withCallerIDEnable(Boolean callerIDEnable) {
 		this.callerIDEnable = callerIDEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -421,6 +439,7 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 */
 	public void  setCallerIDNameEnable(Boolean callerIDNameEnable) {
 		this.callerIDNameEnable = callerIDNameEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -432,6 +451,7 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 */
 	public Set withCallerIDNameEnable(Boolean callerIDNameEnable) {
 		this.callerIDNameEnable = callerIDNameEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -457,6 +477,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint manage
 	 */
 	public void  setCallWaitingEnable(Boolean callWaitingEnable) {
 		this.callWaitingEnable = callWaitingEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -470,6 +491,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint manage
 	 */
 	public Set withCallWaitingEnable(Boolean callWaitingEnable) {
 		this.callWaitingEnable = callWaitingEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -495,6 +517,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardUnconditionalEnable(Boolean callForwardUnconditionalEnable) {
 		this.callForwardUnconditionalEnable = callForwardUnconditionalEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -508,6 +531,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardUnconditionalEnable(Boolean callForwardUnconditionalEnable) {
 		this.callForwardUnconditionalEnable = callForwardUnconditionalEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -533,6 +557,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardUnconditionalNumber(String callForwardUnconditionalNumber) {
 		this.callForwardUnconditionalNumber = callForwardUnconditionalNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -546,6 +571,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardUnconditionalNumber(String callForwardUnconditionalNumber) {
 		this.callForwardUnconditionalNumber = callForwardUnconditionalNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -571,6 +597,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardOnBusyEnable(Boolean callForwardOnBusyEnable) {
 		this.callForwardOnBusyEnable = callForwardOnBusyEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -584,6 +611,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardOnBusyEnable(Boolean callForwardOnBusyEnable) {
 		this.callForwardOnBusyEnable = callForwardOnBusyEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -609,6 +637,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardOnBusyNumber(String callForwardOnBusyNumber) {
 		this.callForwardOnBusyNumber = callForwardOnBusyNumber;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -622,6 +651,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardOnBusyNumber(String callForwardOnBusyNumber) {
 		this.callForwardOnBusyNumber = callForwardOnBusyNumber;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -647,6 +677,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardOnBusyRingTimeout(Long callForwardOnBusyRingTimeout) {
 		this.callForwardOnBusyRingTimeout = callForwardOnBusyRingTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -660,6 +691,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardOnBusyRingTimeout(Long callForwardOnBusyRingTimeout) {
 		this.callForwardOnBusyRingTimeout = callForwardOnBusyRingTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -685,6 +717,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardOnNoAnswerEnable(Boolean callForwardOnNoAnswerEnable) {
 		this.callForwardOnNoAnswerEnable = callForwardOnNoAnswerEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -698,6 +731,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardOnNoAnswerEnable(Boolean callForwardOnNoAnswerEnable) {
 		this.callForwardOnNoAnswerEnable = callForwardOnNoAnswerEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -723,6 +757,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardOnNoAnswerNumber(String callForwardOnNoAnswerNumber) {
 		this.callForwardOnNoAnswerNumber = callForwardOnNoAnswerNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -736,6 +771,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardOnNoAnswerNumber(String callForwardOnNoAnswerNumber) {
 		this.callForwardOnNoAnswerNumber = callForwardOnNoAnswerNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -761,6 +797,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallForwardOnNoAnswerRingTimeout(Long callForwardOnNoAnswerRingTimeout) {
 		this.callForwardOnNoAnswerRingTimeout = callForwardOnNoAnswerRingTimeout;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -774,6 +811,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallForwardOnNoAnswerRingTimeout(Long callForwardOnNoAnswerRingTimeout) {
 		this.callForwardOnNoAnswerRingTimeout = callForwardOnNoAnswerRingTimeout;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -799,6 +837,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallTransferEnable(Boolean callTransferEnable) {
 		this.callTransferEnable = callTransferEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -812,6 +851,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallTransferEnable(Boolean callTransferEnable) {
 		this.callTransferEnable = callTransferEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -837,6 +877,7 @@ This parameter SHOULD NOT be present if the CPE does not support MWI.
 	 */
 	public void  setMwiEnable(Boolean mwiEnable) {
 		this.mwiEnable = mwiEnable;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -850,6 +891,7 @@ This parameter SHOULD NOT be present if the CPE does not support MWI.
 	 */
 	public Set withMwiEnable(Boolean mwiEnable) {
 		this.mwiEnable = mwiEnable;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -871,6 +913,7 @@ This parameter SHOULD NOT be present if the CPE does not support MWI.
 	 */
 	public void  setVmwIEnable(Boolean vmwIEnable) {
 		this.vmwIEnable = vmwIEnable;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -882,6 +925,7 @@ This parameter SHOULD NOT be present if the CPE does not support MWI.
 	 */
 	public Set withVmwIEnable(Boolean vmwIEnable) {
 		this.vmwIEnable = vmwIEnable;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -907,6 +951,7 @@ This parameter SHOULD NOT be present if the CPE does not support MWI.
 	 */
 	public void  setLineMessagesWaiting(Long lineMessagesWaiting) {
 		this.lineMessagesWaiting = lineMessagesWaiting;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -920,6 +965,7 @@ This parameter SHOULD NOT be present if the CPE does not support MWI.
 	 */
 	public Set withLineMessagesWaiting(Long lineMessagesWaiting) {
 		this.lineMessagesWaiting = lineMessagesWaiting;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -945,6 +991,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint based
 	 */
 	public void  setAnonymousCallRejectionEnable(Boolean anonymousCallRejectionEnable) {
 		this.anonymousCallRejectionEnable = anonymousCallRejectionEnable;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -958,6 +1005,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint based
 	 */
 	public Set withAnonymousCallRejectionEnable(Boolean anonymousCallRejectionEnable) {
 		this.anonymousCallRejectionEnable = anonymousCallRejectionEnable;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -983,6 +1031,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint based
 	 */
 	public void  setAnonymousCallEnable(Boolean anonymousCallEnable) {
 		this.anonymousCallEnable = anonymousCallEnable;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -996,6 +1045,7 @@ This parameter SHOULD NOT be present if the CPE does not support endpoint based
 	 */
 	public Set withAnonymousCallEnable(Boolean anonymousCallEnable) {
 		this.anonymousCallEnable = anonymousCallEnable;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1021,6 +1071,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setDonotDisturbEnable(Boolean donotDisturbEnable) {
 		this.donotDisturbEnable = donotDisturbEnable;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1034,6 +1085,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withDonotDisturbEnable(Boolean donotDisturbEnable) {
 		this.donotDisturbEnable = donotDisturbEnable;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1059,6 +1111,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setRepeatDialEnable(Boolean repeatDialEnable) {
 		this.repeatDialEnable = repeatDialEnable;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1072,6 +1125,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withRepeatDialEnable(Boolean repeatDialEnable) {
 		this.repeatDialEnable = repeatDialEnable;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1097,6 +1151,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setVoiceMailEnable(Boolean voiceMailEnable) {
 		this.voiceMailEnable = voiceMailEnable;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1110,6 +1165,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withVoiceMailEnable(Boolean voiceMailEnable) {
 		this.voiceMailEnable = voiceMailEnable;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1131,6 +1187,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCallPickUpEnable(Boolean callPickUpEnable) {
 		this.callPickUpEnable = callPickUpEnable;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1142,6 +1199,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCallPickUpEnable(Boolean callPickUpEnable) {
 		this.callPickUpEnable = callPickUpEnable;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1163,6 +1221,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setCcbSEnable(Boolean ccbSEnable) {
 		this.ccbSEnable = ccbSEnable;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1174,6 +1233,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withCcbSEnable(Boolean ccbSEnable) {
 		this.ccbSEnable = ccbSEnable;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1195,6 +1255,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setIifCEnable(Boolean iifCEnable) {
 		this.iifCEnable = iifCEnable;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1206,6 +1267,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withIifCEnable(Boolean iifCEnable) {
 		this.iifCEnable = iifCEnable;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1227,6 +1289,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public void  setBlockForwardEnable(Boolean blockForwardEnable) {
 		this.blockForwardEnable = blockForwardEnable;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1238,6 +1301,7 @@ This parameter SHOULD NOT be present if the CPE does not support Endpoint based
 	 */
 	public Set withBlockForwardEnable(Boolean blockForwardEnable) {
 		this.blockForwardEnable = blockForwardEnable;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1263,6 +1327,7 @@ If enabled, only the remote ''caller party'' can be identified (if not anonymous
 	 */
 	public void  setSecretForwarderEnable(Boolean secretForwarderEnable) {
 		this.secretForwarderEnable = secretForwarderEnable;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1276,6 +1341,7 @@ If enabled, only the remote ''caller party'' can be identified (if not anonymous
 	 */
 	public Set withSecretForwarderEnable(Boolean secretForwarderEnable) {
 		this.secretForwarderEnable = secretForwarderEnable;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1297,6 +1363,7 @@ If enabled, only the remote ''caller party'' can be identified (if not anonymous
 	 */
 	public void  setFollowMeEnable(Boolean followMeEnable) {
 		this.followMeEnable = followMeEnable;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1308,6 +1375,7 @@ If enabled, only the remote ''caller party'' can be identified (if not anonymous
 	 */
 	public Set withFollowMeEnable(Boolean followMeEnable) {
 		this.followMeEnable = followMeEnable;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1319,10 +1387,22 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 * @return the value
 	 */
 	public Collection<CFT> getCfts() {
-		if (this.cfts == null){ this.cfts=new ArrayList<>();}
+		if (!(this.cfts instanceof InstanceTable)){ this.cfts=InstanceTable.of(this.cfts);}
 		return cfts;
 	}
 
+	/**
+	 * Read the this object defines a Call Forwarding Timed (CFT) that permit the user to forward calls to particular destinations depending on the time of day.
+
+Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected behavior.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CFT> viewCfts() {
+		return cfts == null ? Collections.emptyList() : cfts;
+	}
+
 	/**
 	 * Set the this object defines a Call Forwarding Timed (CFT) that permit the user to forward calls to particular destinations depending on the time of day.
 
@@ -1353,10 +1433,20 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 * @return the value
 	 */
 	public Collection<SCF> getScfs() {
-		if (this.scfs == null){ this.scfs=new ArrayList<>();}
+		if (!(this.scfs instanceof InstanceTable)){ this.scfs=InstanceTable.of(this.scfs);}
 		return scfs;
 	}
 
+	/**
+	 * Read the this object defines a Selective Call Forwarding (SCF) that permit the user to forward calls to different destinations depending on the calling number.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SCF> viewScfs() {
+		return scfs == null ? Collections.emptyList() : scfs;
+	}
+
 	/**
 	 * Set the this object defines a Selective Call Forwarding (SCF) that permit the user to forward calls to different destinations depending on the calling number.
 	 *
@@ -1383,10 +1473,20 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 * @return the value
 	 */
 	public Collection<SCREJ> getScrEJs() {
-		if (this.scrEJs == null){ this.scrEJs=new ArrayList<>();}
+		if (!(this.scrEJs instanceof InstanceTable)){ this.scrEJs=InstanceTable.of(this.scrEJs);}
 		return scrEJs;
 	}
 
+	/**
+	 * Read the this object defines a Selective Call Rejection (SCREJ) that permit the user to selectively reject calls depending on the calling number.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SCREJ> viewScrEJs() {
+		return scrEJs == null ? Collections.emptyList() : scrEJs;
+	}
+
 	/**
 	 * Set the this object defines a Selective Call Rejection (SCREJ) that permit the user to selectively reject calls depending on the calling number.
 	 *
@@ -1413,10 +1513,20 @@ Note: a bad configuration (e.g. timeslots overlapping) could cause unexpected be
 	 * @return the value
 	 */
 	public Collection<FollowMe> getFollowMes() {
-		if (this.followMes == null){ this.followMes=new ArrayList<>();}
+		if (!(this.followMes instanceof InstanceTable)){ this.followMes=InstanceTable.of(this.followMes);}
 		return followMes;
 	}
 
+	/**
+	 * Read the this object defines the FollowMe destinations mapping definition, in the provided sequence order.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<FollowMe> viewFollowMes() {
+		return followMes == null ? Collections.emptyList() : followMes;
+	}
+
 	/**
 	 * Set the this object defines the FollowMe destinations mapping definition, in the provided sequence order.
 	 *
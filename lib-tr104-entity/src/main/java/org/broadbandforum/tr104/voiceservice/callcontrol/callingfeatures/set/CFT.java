@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object defines a Call Forwarding Timed (CFT) that permit the user to forward calls to particular destinations depending on the time of day.
@@ -91,6 +93,16 @@ public class CFT {
 	@Size(max = 32)
 	public String forwardedToNumber;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CFT() {
 	}
 
@@ -113,6 +125,7 @@ public class CFT {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -124,6 +137,7 @@ public class CFT {
 	 */
 	public CFT withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -145,6 +159,8 @@ public class CFT {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -156,6 +172,8 @@ public class CFT {
 	 */
 	public CFT withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -177,6 +195,7 @@ public class CFT {
 	 */
 	public void  setDay(String day) {
 		this.day = day;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -188,6 +207,7 @@ public class CFT {
 	 */
 	public CFT withDay(String day) {
 		this.day = day;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -209,6 +229,7 @@ public class CFT {
 	 */
 	public void  setStartTime(String startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -220,6 +241,7 @@ public class CFT {
 	 */
 	public CFT withStartTime(String startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -241,6 +263,7 @@ public class CFT {
 	 */
 	public void  setEndTime(String endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -252,6 +275,7 @@ public class CFT {
 	 */
 	public CFT withEndTime(String endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -273,6 +297,7 @@ public class CFT {
 	 */
 	public void  setForwardedToNumber(String forwardedToNumber) {
 		this.forwardedToNumber = forwardedToNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -284,6 +309,7 @@ public class CFT {
 	 */
 	public CFT withForwardedToNumber(String forwardedToNumber) {
 		this.forwardedToNumber = forwardedToNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
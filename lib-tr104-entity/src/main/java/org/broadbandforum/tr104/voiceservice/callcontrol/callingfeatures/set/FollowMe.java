@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object defines the FollowMe destinations mapping definition, in the provided sequence order.
@@ -80,6 +82,16 @@ public class FollowMe {
 	@CWMPParameter(access = "readWrite")
 	public Long order;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public FollowMe() {
 	}
 
@@ -102,6 +114,7 @@ public class FollowMe {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +126,7 @@ public class FollowMe {
 	 */
 	public FollowMe withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -134,6 +148,8 @@ public class FollowMe {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -145,6 +161,8 @@ public class FollowMe {
 	 */
 	public FollowMe withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -166,6 +184,7 @@ public class FollowMe {
 	 */
 	public void  setDelay(Long delay) {
 		this.delay = delay;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -177,6 +196,7 @@ public class FollowMe {
 	 */
 	public FollowMe withDelay(Long delay) {
 		this.delay = delay;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -198,6 +218,8 @@ public class FollowMe {
 	 */
 	public void  setNumber(String number) {
 		this.number = number;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -209,6 +231,8 @@ public class FollowMe {
 	 */
 	public FollowMe withNumber(String number) {
 		this.number = number;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -230,6 +254,8 @@ public class FollowMe {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -241,6 +267,8 @@ public class FollowMe {
 	 */
 	public FollowMe withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object defines a Selective Call Forwarding (SCF) that permit the user to forward calls to different destinations depending on the calling number.
@@ -75,6 +77,16 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	@Size(max = 32)
 	public String forwardedToNumber;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SCF() {
 	}
 
@@ -97,6 +109,7 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +121,7 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public SCF withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -129,6 +143,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -140,6 +156,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public SCF withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -165,6 +183,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public void  setCallingNumber(String callingNumber) {
 		this.callingNumber = callingNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -178,6 +198,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public SCF withCallingNumber(String callingNumber) {
 		this.callingNumber = callingNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -199,6 +221,7 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public void  setForwardedToNumber(String forwardedToNumber) {
 		this.forwardedToNumber = forwardedToNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -210,6 +233,7 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public SCF withForwardedToNumber(String forwardedToNumber) {
 		this.forwardedToNumber = forwardedToNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
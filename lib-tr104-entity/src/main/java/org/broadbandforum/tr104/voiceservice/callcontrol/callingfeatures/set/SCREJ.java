@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object defines a Selective Call Rejection (SCREJ) that permit the user to selectively reject calls depending on the calling number.
@@ -66,6 +68,16 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	@Size(max = 32)
 	public String callingNumber;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SCREJ() {
 	}
 
@@ -88,6 +100,7 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -99,6 +112,7 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public SCREJ withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -120,6 +134,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -131,6 +147,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public SCREJ withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -156,6 +174,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public void  setCallingNumber(String callingNumber) {
 		this.callingNumber = callingNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +189,8 @@ The CPE SHOULD perform an exact match with this string without any attempts at n
 	 */
 	public SCREJ withCallingNumber(String callingNumber) {
 		this.callingNumber = callingNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Voice to mail specific attributes. Applies only if {{param|#.VoiceMailEnable}} is set to {{true}}.
@@ -75,6 +76,11 @@ public class Voice2Mail {
 	@CWMPParameter(access = "readWrite")
 	public String emailAddress;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Voice2Mail() {
 	}
 
@@ -97,6 +103,7 @@ public class Voice2Mail {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +115,7 @@ public class Voice2Mail {
 	 */
 	public Voice2Mail withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -129,6 +137,7 @@ public class Voice2Mail {
 	 */
 	public void  setMaxMessageLength(Long maxMessageLength) {
 		this.maxMessageLength = maxMessageLength;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -140,6 +149,7 @@ public class Voice2Mail {
 	 */
 	public Voice2Mail withMaxMessageLength(Long maxMessageLength) {
 		this.maxMessageLength = maxMessageLength;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -161,6 +171,7 @@ public class Voice2Mail {
 	 */
 	public void  setAttach(Boolean attach) {
 		this.attach = attach;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -172,6 +183,7 @@ public class Voice2Mail {
 	 */
 	public Voice2Mail withAttach(Boolean attach) {
 		this.attach = attach;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -193,6 +205,7 @@ public class Voice2Mail {
 	 */
 	public void  setKeepLocal(Boolean keepLocal) {
 		this.keepLocal = keepLocal;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -204,6 +217,7 @@ public class Voice2Mail {
 	 */
 	public Voice2Mail withKeepLocal(Boolean keepLocal) {
 		this.keepLocal = keepLocal;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -225,6 +239,7 @@ public class Voice2Mail {
 	 */
 	public void  setEmailAddress(String emailAddress) {
 		this.emailAddress = emailAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -236,6 +251,7 @@ public class Voice2Mail {
 	 */
 	public Voice2Mail withEmailAddress(String emailAddress) {
 		this.emailAddress = emailAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
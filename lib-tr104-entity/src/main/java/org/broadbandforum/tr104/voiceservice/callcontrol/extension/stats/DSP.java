@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * DSP statistic parameters.
@@ -51,6 +52,11 @@ public class DSP {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long underruns;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DSP() {
 	}
 
@@ -73,6 +79,7 @@ public class DSP {
 	 */
 	public void  setOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +91,7 @@ public class DSP {
 	 */
 	public DSP withOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -105,6 +113,7 @@ public class DSP {
 	 */
 	public void  setUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -116,6 +125,7 @@ public class DSP {
 	 */
 	public DSP withUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
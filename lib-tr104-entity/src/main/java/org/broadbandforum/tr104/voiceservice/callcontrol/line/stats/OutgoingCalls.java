@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Statistics for outgoing calls.
@@ -71,6 +72,11 @@ public class OutgoingCalls {
 	@CWMPParameter(activeNotify = "canDeny", units = "seconds")
 	public Long totalCallTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public OutgoingCalls() {
 	}
 
@@ -93,6 +99,7 @@ public class OutgoingCalls {
 	 */
 	public void  setCallsAttempted(Long callsAttempted) {
 		this.callsAttempted = callsAttempted;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -104,6 +111,7 @@ public class OutgoingCalls {
 	 */
 	public OutgoingCalls withCallsAttempted(Long callsAttempted) {
 		this.callsAttempted = callsAttempted;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -125,6 +133,7 @@ public class OutgoingCalls {
 	 */
 	public void  setCallsConnected(Long callsConnected) {
 		this.callsConnected = callsConnected;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -136,6 +145,7 @@ public class OutgoingCalls {
 	 */
 	public OutgoingCalls withCallsConnected(Long callsConnected) {
 		this.callsConnected = callsConnected;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -157,6 +167,7 @@ public class OutgoingCalls {
 	 */
 	public void  setCallsFailed(Long callsFailed) {
 		this.callsFailed = callsFailed;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -168,6 +179,7 @@ public class OutgoingCalls {
 	 */
 	public OutgoingCalls withCallsFailed(Long callsFailed) {
 		this.callsFailed = callsFailed;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -189,6 +201,7 @@ public class OutgoingCalls {
 	 */
 	public void  setCallsDropped(Long callsDropped) {
 		this.callsDropped = callsDropped;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -200,6 +213,7 @@ public class OutgoingCalls {
 	 */
 	public OutgoingCalls withCallsDropped(Long callsDropped) {
 		this.callsDropped = callsDropped;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -221,6 +235,7 @@ public class OutgoingCalls {
 	 */
 	public void  setTotalCallTime(Long totalCallTime) {
 		this.totalCallTime = totalCallTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -232,6 +247,7 @@ public class OutgoingCalls {
 	 */
 	public OutgoingCalls withTotalCallTime(Long totalCallTime) {
 		this.totalCallTime = totalCallTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
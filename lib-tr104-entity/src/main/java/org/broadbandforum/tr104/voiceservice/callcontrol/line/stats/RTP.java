@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * RTP statistic parameters.
@@ -75,6 +76,11 @@ public class RTP {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long bytesReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTP() {
 	}
 
@@ -97,6 +103,7 @@ public class RTP {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +115,7 @@ public class RTP {
 	 */
 	public RTP withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -129,6 +137,7 @@ public class RTP {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -140,6 +149,7 @@ public class RTP {
 	 */
 	public RTP withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -161,6 +171,7 @@ public class RTP {
 	 */
 	public void  setPacketsLost(Long packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -172,6 +183,7 @@ public class RTP {
 	 */
 	public RTP withPacketsLost(Long packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -193,6 +205,7 @@ public class RTP {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -204,6 +217,7 @@ public class RTP {
 	 */
 	public RTP withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -225,6 +239,7 @@ public class RTP {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -236,6 +251,7 @@ public class RTP {
 	 */
 	public RTP withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
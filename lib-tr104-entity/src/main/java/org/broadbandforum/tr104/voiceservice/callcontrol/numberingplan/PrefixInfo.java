@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table contains information related to an individual prefix in the NumberingPlan.
@@ -164,6 +166,16 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	@Size(max = 256)
 	public String facilityActionArgument;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PrefixInfo() {
 	}
 
@@ -186,6 +198,8 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -197,6 +211,8 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public PrefixInfo withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -218,6 +234,7 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -229,6 +246,7 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public PrefixInfo withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -286,6 +304,7 @@ Examples:
 	 */
 	public void  setPrefixRange(String prefixRange) {
 		this.prefixRange = prefixRange;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -315,6 +334,7 @@ Examples:
 	 */
 	public PrefixInfo withPrefixRange(String prefixRange) {
 		this.prefixRange = prefixRange;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -340,6 +360,7 @@ If the minimum number of digits has been reached and the inter-digit timer expir
 	 */
 	public void  setPrefixMinNumberOfDigits(Long prefixMinNumberOfDigits) {
 		this.prefixMinNumberOfDigits = prefixMinNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -353,6 +374,7 @@ If the minimum number of digits has been reached and the inter-digit timer expir
 	 */
 	public PrefixInfo withPrefixMinNumberOfDigits(Long prefixMinNumberOfDigits) {
 		this.prefixMinNumberOfDigits = prefixMinNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -374,6 +396,7 @@ If the minimum number of digits has been reached and the inter-digit timer expir
 	 */
 	public void  setPrefixMaxNumberOfDigits(Long prefixMaxNumberOfDigits) {
 		this.prefixMaxNumberOfDigits = prefixMaxNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -385,6 +408,7 @@ If the minimum number of digits has been reached and the inter-digit timer expir
 	 */
 	public PrefixInfo withPrefixMaxNumberOfDigits(Long prefixMaxNumberOfDigits) {
 		this.prefixMaxNumberOfDigits = prefixMaxNumberOfDigits;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -418,6 +442,7 @@ This parameter is provided to handle Carrier override and other codes used as pr
 	 */
 	public void  setNumberOfDigitsToRemove(Long numberOfDigitsToRemove) {
 		this.numberOfDigitsToRemove = numberOfDigitsToRemove;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -435,6 +460,7 @@ This parameter is provided to handle Carrier override and other codes used as pr
 	 */
 	public PrefixInfo withNumberOfDigitsToRemove(Long numberOfDigitsToRemove) {
 		this.numberOfDigitsToRemove = numberOfDigitsToRemove;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -456,6 +482,7 @@ This parameter is provided to handle Carrier override and other codes used as pr
 	 */
 	public void  setPosOfDigitsToRemove(Long posOfDigitsToRemove) {
 		this.posOfDigitsToRemove = posOfDigitsToRemove;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -467,6 +494,7 @@ This parameter is provided to handle Carrier override and other codes used as pr
 	 */
 	public PrefixInfo withPosOfDigitsToRemove(Long posOfDigitsToRemove) {
 		this.posOfDigitsToRemove = posOfDigitsToRemove;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -492,6 +520,7 @@ This parameter is provided to handle Carrier override and other codes used as pr
 	 */
 	public void  setDialTone(String dialTone) {
 		this.dialTone = dialTone;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -505,6 +534,7 @@ This parameter is provided to handle Carrier override and other codes used as pr
 	 */
 	public PrefixInfo withDialTone(String dialTone) {
 		this.dialTone = dialTone;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -534,6 +564,7 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public void  setFacilityAction(String facilityAction) {
 		this.facilityAction = facilityAction;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -549,6 +580,7 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public PrefixInfo withFacilityAction(String facilityAction) {
 		this.facilityAction = facilityAction;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -570,6 +602,7 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public void  setFacilityActionArgument(String facilityActionArgument) {
 		this.facilityActionArgument = facilityActionArgument;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -581,6 +614,7 @@ When {{empty}} or the value is an unrecognized string (i.e. a Facility Action no
 	 */
 	public PrefixInfo withFacilityActionArgument(String facilityActionArgument) {
 		this.facilityActionArgument = facilityActionArgument;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
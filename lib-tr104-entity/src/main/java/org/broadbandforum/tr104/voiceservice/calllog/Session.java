@@ -22,8 +22,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr104.voiceservice.calllog.session.Destination;
 import org.broadbandforum.tr104.voiceservice.calllog.session.Source;
 
@@ -51,6 +55,7 @@ public class Session {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "Start")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime start;
 	/**
 	 * Length of the session in seconds.
@@ -78,6 +83,16 @@ public class Session {
 	@XmlElement(name = "Destination")
 	public Destination destination;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Session() {
 	}
 
@@ -100,6 +115,7 @@ public class Session {
 	 */
 	public void  setStreamType(String streamType) {
 		this.streamType = streamType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +127,7 @@ public class Session {
 	 */
 	public Session withStreamType(String streamType) {
 		this.streamType = streamType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -132,6 +149,7 @@ public class Session {
 	 */
 	public void  setStart(LocalDateTime start) {
 		this.start = start;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -143,6 +161,7 @@ public class Session {
 	 */
 	public Session withStart(LocalDateTime start) {
 		this.start = start;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -164,6 +183,7 @@ public class Session {
 	 */
 	public void  setDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -175,6 +195,7 @@ public class Session {
 	 */
 	public Session withDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -196,6 +217,8 @@ public class Session {
 	 */
 	public void  setSessionID(String sessionID) {
 		this.sessionID = sessionID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -207,6 +230,8 @@ public class Session {
 	 */
 	public Session withSessionID(String sessionID) {
 		this.sessionID = sessionID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -22,6 +22,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains signaling performance statistics for each protocol involved in the call.
@@ -75,6 +77,16 @@ The value could be negative if a media packet arrives before the connection esta
 	@XmlElement(name = "IncomingMediaEstablishDelay")
 	public Integer incomingMediaEstablishDelay;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SignalingPerformance() {
 	}
 
@@ -97,6 +109,8 @@ The value could be negative if a media packet arrives before the connection esta
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -108,6 +122,8 @@ The value could be negative if a media packet arrives before the connection esta
 	 */
 	public SignalingPerformance withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -129,6 +145,7 @@ The value could be negative if a media packet arrives before the connection esta
 	 */
 	public void  setCallSetupDelay(Long callSetupDelay) {
 		this.callSetupDelay = callSetupDelay;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -140,6 +157,7 @@ The value could be negative if a media packet arrives before the connection esta
 	 */
 	public SignalingPerformance withCallSetupDelay(Long callSetupDelay) {
 		this.callSetupDelay = callSetupDelay;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -173,6 +191,7 @@ The value could be negative if a media packet is sent before the connection esta
 	 */
 	public void  setOutgoingMediaEstablishDelay(Integer outgoingMediaEstablishDelay) {
 		this.outgoingMediaEstablishDelay = outgoingMediaEstablishDelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +209,7 @@ The value could be negative if a media packet is sent before the connection esta
 	 */
 	public SignalingPerformance withOutgoingMediaEstablishDelay(Integer outgoingMediaEstablishDelay) {
 		this.outgoingMediaEstablishDelay = outgoingMediaEstablishDelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -223,6 +243,7 @@ The value could be negative if a media packet arrives before the connection esta
 	 */
 	public void  setIncomingMediaEstablishDelay(Integer incomingMediaEstablishDelay) {
 		this.incomingMediaEstablishDelay = incomingMediaEstablishDelay;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -240,6 +261,7 @@ The value could be negative if a media packet arrives before the connection esta
 	 */
 	public SignalingPerformance withIncomingMediaEstablishDelay(Integer incomingMediaEstablishDelay) {
 		this.incomingMediaEstablishDelay = incomingMediaEstablishDelay;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
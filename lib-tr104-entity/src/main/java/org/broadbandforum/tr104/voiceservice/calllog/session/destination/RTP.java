@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
@@ -255,6 +256,11 @@ A value of -1 indicates no reliable value is available.
 	@CWMPParameter(activeNotify = "canDeny", units = "Hertz")
 	public Long samplingFrequency;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTP() {
 	}
 
@@ -277,6 +283,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setFarEndIPAddress(IPAddress farEndIPAddress) {
 		this.farEndIPAddress = farEndIPAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -288,6 +295,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withFarEndIPAddress(IPAddress farEndIPAddress) {
 		this.farEndIPAddress = farEndIPAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -309,6 +317,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setFarEndUDPPort(Long farEndUDPPort) {
 		this.farEndUDPPort = farEndUDPPort;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -320,6 +329,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withFarEndUDPPort(Long farEndUDPPort) {
 		this.farEndUDPPort = farEndUDPPort;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -341,6 +351,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setLocalUDPPort(Long localUDPPort) {
 		this.localUDPPort = localUDPPort;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -352,6 +363,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withLocalUDPPort(Long localUDPPort) {
 		this.localUDPPort = localUDPPort;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -377,6 +389,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setMinJitter(Integer minJitter) {
 		this.minJitter = minJitter;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -390,6 +403,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withMinJitter(Integer minJitter) {
 		this.minJitter = minJitter;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -415,6 +429,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setMaxJitter(Integer maxJitter) {
 		this.maxJitter = maxJitter;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -428,6 +443,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withMaxJitter(Integer maxJitter) {
 		this.maxJitter = maxJitter;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -453,6 +469,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setMeanJitter(Integer meanJitter) {
 		this.meanJitter = meanJitter;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -466,6 +483,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withMeanJitter(Integer meanJitter) {
 		this.meanJitter = meanJitter;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -491,6 +509,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setPacketDelayVariation(Integer packetDelayVariation) {
 		this.packetDelayVariation = packetDelayVariation;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -504,6 +523,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withPacketDelayVariation(Integer packetDelayVariation) {
 		this.packetDelayVariation = packetDelayVariation;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -529,6 +549,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setBufferDelay(Integer bufferDelay) {
 		this.bufferDelay = bufferDelay;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -542,6 +563,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withBufferDelay(Integer bufferDelay) {
 		this.bufferDelay = bufferDelay;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -567,6 +589,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setBurstCount(StatsCounter32 burstCount) {
 		this.burstCount = burstCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -580,6 +603,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withBurstCount(StatsCounter32 burstCount) {
 		this.burstCount = burstCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -601,6 +625,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -612,6 +637,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -633,6 +659,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -644,6 +671,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -665,6 +693,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setPacketsLost(StatsCounter32 packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -676,6 +705,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withPacketsLost(StatsCounter32 packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -697,6 +727,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setPacketsDiscarded(StatsCounter32 packetsDiscarded) {
 		this.packetsDiscarded = packetsDiscarded;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -708,6 +739,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withPacketsDiscarded(StatsCounter32 packetsDiscarded) {
 		this.packetsDiscarded = packetsDiscarded;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -729,6 +761,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -740,6 +773,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -761,6 +795,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -772,6 +807,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -793,6 +829,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setReceivePacketLossRate(Long receivePacketLossRate) {
 		this.receivePacketLossRate = receivePacketLossRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -804,6 +841,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withReceivePacketLossRate(Long receivePacketLossRate) {
 		this.receivePacketLossRate = receivePacketLossRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -825,6 +863,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public void  setFarEndPacketLossRate(Long farEndPacketLossRate) {
 		this.farEndPacketLossRate = farEndPacketLossRate;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -836,6 +875,7 @@ The burst's threshold is configured with the parameter {{param|.VoIPProfile.{i}.
 	 */
 	public RTP withFarEndPacketLossRate(Long farEndPacketLossRate) {
 		this.farEndPacketLossRate = farEndPacketLossRate;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -861,6 +901,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setReceiveInterarrivalJitter(Integer receiveInterarrivalJitter) {
 		this.receiveInterarrivalJitter = receiveInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -874,6 +915,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withReceiveInterarrivalJitter(Integer receiveInterarrivalJitter) {
 		this.receiveInterarrivalJitter = receiveInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -899,6 +941,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setFarEndInterarrivalJitter(Integer farEndInterarrivalJitter) {
 		this.farEndInterarrivalJitter = farEndInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -912,6 +955,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withFarEndInterarrivalJitter(Integer farEndInterarrivalJitter) {
 		this.farEndInterarrivalJitter = farEndInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -937,6 +981,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setAverageReceiveInterarrivalJitter(Integer averageReceiveInterarrivalJitter) {
 		this.averageReceiveInterarrivalJitter = averageReceiveInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -950,6 +995,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withAverageReceiveInterarrivalJitter(Integer averageReceiveInterarrivalJitter) {
 		this.averageReceiveInterarrivalJitter = averageReceiveInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -975,6 +1021,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setAverageFarEndInterarrivalJitter(Integer averageFarEndInterarrivalJitter) {
 		this.averageFarEndInterarrivalJitter = averageFarEndInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -988,6 +1035,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withAverageFarEndInterarrivalJitter(Integer averageFarEndInterarrivalJitter) {
 		this.averageFarEndInterarrivalJitter = averageFarEndInterarrivalJitter;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1013,6 +1061,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setRoundTripDelay(Integer roundTripDelay) {
 		this.roundTripDelay = roundTripDelay;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1026,6 +1075,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withRoundTripDelay(Integer roundTripDelay) {
 		this.roundTripDelay = roundTripDelay;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1051,6 +1101,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setAverageRoundTripDelay(Integer averageRoundTripDelay) {
 		this.averageRoundTripDelay = averageRoundTripDelay;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1064,6 +1115,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withAverageRoundTripDelay(Integer averageRoundTripDelay) {
 		this.averageRoundTripDelay = averageRoundTripDelay;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1085,6 +1137,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public void  setSamplingFrequency(Long samplingFrequency) {
 		this.samplingFrequency = samplingFrequency;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1096,6 +1149,7 @@ A value of -1 indicates no reliable value is available.
 	 */
 	public RTP withSamplingFrequency(Long samplingFrequency) {
 		this.samplingFrequency = samplingFrequency;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * VoIP Statistics for current session instance.
@@ -79,6 +80,11 @@ Example: if {{param|.VoIPProfile.{i}.QICalculationInterval}} is equal to 10 (sec
 	@Size(max = 65535)
 	public Long worstVoIPQualityIndicatorTimestamps;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VoiceQuality() {
 	}
 
@@ -117,6 +123,7 @@ For instance, if {{param}} is reported as "78,57,88,79,34,56", and {{param|.VoIP
 	 */
 	public void  setVoiPQualityIndicator(Long voiPQualityIndicator) {
 		this.voiPQualityIndicator = voiPQualityIndicator;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +143,7 @@ For instance, if {{param}} is reported as "78,57,88,79,34,56", and {{param|.VoIP
 	 */
 	public VoiceQuality withVoiPQualityIndicator(Long voiPQualityIndicator) {
 		this.voiPQualityIndicator = voiPQualityIndicator;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -169,6 +177,7 @@ Example: "34,56,57" are the 3 worst values calculated during the call.
 	 */
 	public void  setWorstVoIPQualityIndicatorsValues(Long worstVoIPQualityIndicatorsValues) {
 		this.worstVoIPQualityIndicatorsValues = worstVoIPQualityIndicatorsValues;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -186,6 +195,7 @@ Example: "34,56,57" are the 3 worst values calculated during the call.
 	 */
 	public VoiceQuality withWorstVoIPQualityIndicatorsValues(Long worstVoIPQualityIndicatorsValues) {
 		this.worstVoIPQualityIndicatorsValues = worstVoIPQualityIndicatorsValues;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -219,6 +229,7 @@ Example: if {{param|.VoIPProfile.{i}.QICalculationInterval}} is equal to 10 (sec
 	 */
 	public void  setWorstVoIPQualityIndicatorTimestamps(Long worstVoIPQualityIndicatorTimestamps) {
 		this.worstVoIPQualityIndicatorTimestamps = worstVoIPQualityIndicatorTimestamps;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -236,6 +247,7 @@ Example: if {{param|.VoIPProfile.{i}.QICalculationInterval}} is equal to 10 (sec
 	 */
 	public VoiceQuality withWorstVoIPQualityIndicatorTimestamps(Long worstVoIPQualityIndicatorTimestamps) {
 		this.worstVoIPQualityIndicatorTimestamps = worstVoIPQualityIndicatorTimestamps;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The receive codec used in this session.
@@ -66,6 +67,11 @@ public class ReceiveCodec {
 	@XmlElement(name = "Underruns")
 	public Long underruns;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ReceiveCodec() {
 	}
 
@@ -92,6 +98,7 @@ public class ReceiveCodec {
 	 */
 	public void  setCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -105,6 +112,7 @@ public class ReceiveCodec {
 	 */
 	public ReceiveCodec withCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -126,6 +134,7 @@ public class ReceiveCodec {
 	 */
 	public void  setSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -137,6 +146,7 @@ public class ReceiveCodec {
 	 */
 	public ReceiveCodec withSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -158,6 +168,7 @@ public class ReceiveCodec {
 	 */
 	public void  setOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -169,6 +180,7 @@ public class ReceiveCodec {
 	 */
 	public ReceiveCodec withOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -190,6 +202,7 @@ public class ReceiveCodec {
 	 */
 	public void  setUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -201,6 +214,7 @@ public class ReceiveCodec {
 	 */
 	public ReceiveCodec withUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The transmit codec used in this session.
@@ -73,6 +74,11 @@ public class TransmitCodec {
 	@XmlElement(name = "Underruns")
 	public Long underruns;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TransmitCodec() {
 	}
 
@@ -99,6 +105,7 @@ public class TransmitCodec {
 	 */
 	public void  setCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +119,7 @@ public class TransmitCodec {
 	 */
 	public TransmitCodec withCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +141,7 @@ public class TransmitCodec {
 	 */
 	public void  setSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +153,7 @@ public class TransmitCodec {
 	 */
 	public TransmitCodec withSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +175,7 @@ public class TransmitCodec {
 	 */
 	public void  setPacketizationPeriod(Long packetizationPeriod) {
 		this.packetizationPeriod = packetizationPeriod;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +187,7 @@ public class TransmitCodec {
 	 */
 	public TransmitCodec withPacketizationPeriod(Long packetizationPeriod) {
 		this.packetizationPeriod = packetizationPeriod;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -197,6 +209,7 @@ public class TransmitCodec {
 	 */
 	public void  setOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -208,6 +221,7 @@ public class TransmitCodec {
 	 */
 	public TransmitCodec withOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -229,6 +243,7 @@ public class TransmitCodec {
 	 */
 	public void  setUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -240,6 +255,7 @@ public class TransmitCodec {
 	 */
 	public TransmitCodec withUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
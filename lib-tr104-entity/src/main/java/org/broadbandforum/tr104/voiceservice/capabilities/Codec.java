@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table to describe the set of supported codecs.
@@ -92,6 +95,16 @@ A range MUST only be indicated if all values within the range are supported.
 	@XmlElement(name = "SilenceSuppression")
 	public Boolean silenceSuppression;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Codec() {
 	}
 
@@ -114,6 +127,8 @@ A range MUST only be indicated if all values within the range are supported.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -125,6 +140,8 @@ A range MUST only be indicated if all values within the range are supported.
 	 */
 	public Codec withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -154,6 +171,8 @@ The parameter MAY instead be a vendor-specific codec, which MUST be in the forma
 	 */
 	public void  setCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +188,8 @@ The parameter MAY instead be a vendor-specific codec, which MUST be in the forma
 	 */
 	public Codec withCodec(String codec) {
 		this.codec = codec;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -190,6 +211,8 @@ The parameter MAY instead be a vendor-specific codec, which MUST be in the forma
 	 */
 	public void  setBitRate(Long bitRate) {
 		this.bitRate = bitRate;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -201,6 +224,8 @@ The parameter MAY instead be a vendor-specific codec, which MUST be in the forma
 	 */
 	public Codec withBitRate(Long bitRate) {
 		this.bitRate = bitRate;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -225,6 +250,27 @@ A range MUST only be indicated if all values within the range are supported.
 		return packetizationPeriod;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported packetization period, in milliseconds, or a continuous range of packetization periods.  Ranges are indicated as a hyphen-separated pair of unsigned integers.  Examples:
+
+: "20" indicates a single discrete value.
+
+: "10, 20, 30" indicates a set of discrete values.
+
+: "5-40" indicates a continuous inclusive range.
+
+: "5-10, 20, 30" indicates a continuous range in addition to a set of discrete values.
+
+A range MUST only be indicated if all values within the range are supported.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPacketizationPeriod() {
+		return packetizationPeriod == null ? Collections.emptyList() : packetizationPeriod;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported packetization period, in milliseconds, or a continuous range of packetization periods.  Ranges are indicated as a hyphen-separated pair of unsigned integers.  Examples:
 
@@ -243,6 +289,7 @@ A range MUST only be indicated if all values within the range are supported.
 	 */
 	public void  setPacketizationPeriod(Collection<String> packetizationPeriod) {
 		this.packetizationPeriod = packetizationPeriod;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -264,6 +311,7 @@ A range MUST only be indicated if all values within the range are supported.
 	 */
 	public Codec withPacketizationPeriod(String string) {
 		getPacketizationPeriod().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -285,6 +333,7 @@ A range MUST only be indicated if all values within the range are supported.
 	 */
 	public void  setSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -296,6 +345,7 @@ A range MUST only be indicated if all values within the range are supported.
 	 */
 	public Codec withSilenceSuppression(Boolean silenceSuppression) {
 		this.silenceSuppression = silenceSuppression;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
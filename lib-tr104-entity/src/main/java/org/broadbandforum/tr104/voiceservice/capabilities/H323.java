@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * H.323-specific capabilities (as defined in {{bibref|H.323}}).
@@ -56,6 +58,11 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	@XmlList
 	public Collection<String> h235AuthenticationMethods;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public H323() {
 	}
 
@@ -78,6 +85,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setFastStart(Boolean fastStart) {
 		this.fastStart = fastStart;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -89,6 +97,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public H323 withFastStart(Boolean fastStart) {
 		this.fastStart = fastStart;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -107,6 +116,21 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 		return h235AuthenticationMethods;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported authentication method. 
+
+Enumerated value must be one of [dhExch, pwdSymEnc, pwdHash, certSign, ipsec, tls]
+
+The list MAY include vendor-specific protocols, which MUST use the format defined in {{bibref|TR-106a7}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewH235AuthenticationMethods() {
+		return h235AuthenticationMethods == null ? Collections.emptyList() : h235AuthenticationMethods;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported authentication method. 
 
@@ -119,6 +143,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setH235AuthenticationMethods(Collection<String> h235AuthenticationMethods) {
 		this.h235AuthenticationMethods = h235AuthenticationMethods;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -134,6 +159,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public H323 withH235AuthenticationMethods(String string) {
 		getH235AuthenticationMethods().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
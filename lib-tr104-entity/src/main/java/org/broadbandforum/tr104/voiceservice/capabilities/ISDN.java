@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The overall ISDN capabilities of external ports of the CPE.
@@ -84,6 +85,11 @@ Explicit call transfer  (ECT)
 	@XmlElement(name = "ECT")
 	public Boolean ect;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ISDN() {
 	}
 
@@ -106,6 +112,7 @@ Explicit call transfer  (ECT)
 	 */
 	public void  setMsn(Boolean msn) {
 		this.msn = msn;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -117,6 +124,7 @@ Explicit call transfer  (ECT)
 	 */
 	public ISDN withMsn(Boolean msn) {
 		this.msn = msn;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -138,6 +146,7 @@ Explicit call transfer  (ECT)
 	 */
 	public void  setDdi(Boolean ddi) {
 		this.ddi = ddi;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -149,6 +158,7 @@ Explicit call transfer  (ECT)
 	 */
 	public ISDN withDdi(Boolean ddi) {
 		this.ddi = ddi;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -170,6 +180,7 @@ Explicit call transfer  (ECT)
 	 */
 	public void  setMciD(Boolean mciD) {
 		this.mciD = mciD;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -181,6 +192,7 @@ Explicit call transfer  (ECT)
 	 */
 	public ISDN withMciD(Boolean mciD) {
 		this.mciD = mciD;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -202,6 +214,7 @@ Explicit call transfer  (ECT)
 	 */
 	public void  setMwi(Boolean mwi) {
 		this.mwi = mwi;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -213,6 +226,7 @@ Explicit call transfer  (ECT)
 	 */
 	public ISDN withMwi(Boolean mwi) {
 		this.mwi = mwi;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -246,6 +260,7 @@ Explicit call transfer  (ECT)
 	 */
 	public void  setAoc(Boolean aoc) {
 		this.aoc = aoc;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -263,6 +278,7 @@ Explicit call transfer  (ECT)
 	 */
 	public ISDN withAoc(Boolean aoc) {
 		this.aoc = aoc;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -288,6 +304,7 @@ Explicit call transfer  (ECT)
 	 */
 	public void  setEct(Boolean ect) {
 		this.ect = ect;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -301,6 +318,7 @@ Explicit call transfer  (ECT)
 	 */
 	public ISDN withEct(Boolean ect) {
 		this.ect = ect;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
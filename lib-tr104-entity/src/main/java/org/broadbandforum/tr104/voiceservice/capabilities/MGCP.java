@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * MGCP-specific capabilities (as defined in {{bibref|RFC3435}}).
@@ -53,6 +55,11 @@ Examples:
 	@XmlList
 	public Collection<String> extensions;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MGCP() {
 	}
 
@@ -76,6 +83,25 @@ Examples:
 		return extensions;
 	}
 
+	/**
+	 * Read the {{list}}  Each item is a supported optional MGCP package. MGCP packages are listed using the uppercase package abbreviation.
+
+The list MAY include vendor-specific extensions, which MUST use the format defined in {{bibref|TR-106}}.
+
+Examples:
+
+: "BP"
+
+: "X_EXAMPLE-COM_MyExt"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewExtensions() {
+		return extensions == null ? Collections.emptyList() : extensions;
+	}
+
 	/**
 	 * Set the {{list}}  Each item is a supported optional MGCP package. MGCP packages are listed using the uppercase package abbreviation.
 
@@ -92,6 +118,7 @@ Examples:
 	 */
 	public void  setExtensions(Collection<String> extensions) {
 		this.extensions = extensions;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +138,7 @@ Examples:
 	 */
 	public MGCP withExtensions(String string) {
 		getExtensions().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
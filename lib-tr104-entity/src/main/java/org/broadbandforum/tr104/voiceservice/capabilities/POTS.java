@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The overall POTS capabilities of external ports of the CPE.
@@ -55,6 +56,11 @@ public class POTS {
 	@XmlElement(name = "ChargingPulse")
 	public Boolean chargingPulse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public POTS() {
 	}
 
@@ -77,6 +83,7 @@ public class POTS {
 	 */
 	public void  setDialType(String dialType) {
 		this.dialType = dialType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -88,6 +95,7 @@ public class POTS {
 	 */
 	public POTS withDialType(String dialType) {
 		this.dialType = dialType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -109,6 +117,7 @@ public class POTS {
 	 */
 	public void  setClipGeneration(Boolean clipGeneration) {
 		this.clipGeneration = clipGeneration;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -120,6 +129,7 @@ public class POTS {
 	 */
 	public POTS withClipGeneration(Boolean clipGeneration) {
 		this.clipGeneration = clipGeneration;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -141,6 +151,7 @@ public class POTS {
 	 */
 	public void  setChargingPulse(Boolean chargingPulse) {
 		this.chargingPulse = chargingPulse;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -152,6 +163,7 @@ public class POTS {
 	 */
 	public POTS withChargingPulse(Boolean chargingPulse) {
 		this.chargingPulse = chargingPulse;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
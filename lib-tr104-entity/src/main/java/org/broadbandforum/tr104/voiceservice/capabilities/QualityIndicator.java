@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Specific capabilities concerning quality indicators.
@@ -64,6 +65,11 @@ If possible this limit SHOULD be large enough to handle at least 10 to 15 minute
 	@Size(min = 0, max = 127)
 	public Long maxWorstQIValues;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QualityIndicator() {
 	}
 
@@ -94,6 +100,7 @@ For example: “P.564,G.107,X_EXAMPLE-COM_MyModel”
 	 */
 	public void  setQimodelsSupported(String qimodelsSupported) {
 		this.qimodelsSupported = qimodelsSupported;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -109,6 +116,7 @@ For example: “P.564,G.107,X_EXAMPLE-COM_MyModel”
 	 */
 	public QualityIndicator withQimodelsSupported(String qimodelsSupported) {
 		this.qimodelsSupported = qimodelsSupported;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -134,6 +142,7 @@ If possible this limit SHOULD be large enough to handle at least 10 to 15 minute
 	 */
 	public void  setMaxQIValues(Long maxQIValues) {
 		this.maxQIValues = maxQIValues;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -147,6 +156,7 @@ If possible this limit SHOULD be large enough to handle at least 10 to 15 minute
 	 */
 	public QualityIndicator withMaxQIValues(Long maxQIValues) {
 		this.maxQIValues = maxQIValues;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -168,6 +178,7 @@ If possible this limit SHOULD be large enough to handle at least 10 to 15 minute
 	 */
 	public void  setMaxWorstQIValues(Long maxWorstQIValues) {
 		this.maxWorstQIValues = maxWorstQIValues;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -179,6 +190,7 @@ If possible this limit SHOULD be large enough to handle at least 10 to 15 minute
 	 */
 	public QualityIndicator withMaxWorstQIValues(Long maxWorstQIValues) {
 		this.maxWorstQIValues = maxWorstQIValues;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
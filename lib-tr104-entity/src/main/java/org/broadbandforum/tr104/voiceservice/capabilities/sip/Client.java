@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.capabilities.sip;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * SIP client capabilities.
@@ -133,6 +135,11 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	@XmlList
 	public Collection<String> tlsKeyExchangeProtocols;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Client() {
 	}
 
@@ -158,6 +165,27 @@ Examples:
 		return extensions;
 	}
 
+	/**
+	 * Read the {{list}}  Each item is a supported SIP extension method among the methods listed in the IANA SIP parameters registry (see {{bibref|IANA_SIP_Methods}}). SIP extension methods MUST be in the form of the method name in upper case.
+
+The list MAY include vendor-specific extensions, which MUST use the format defined in {{bibref|TR-106}}.
+
+Examples:
+
+: "REFER"
+
+: "INFO"
+
+: "X_EXAMPLE-COM_MyExt"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewExtensions() {
+		return extensions == null ? Collections.emptyList() : extensions;
+	}
+
 	/**
 	 * Set the {{list}}  Each item is a supported SIP extension method among the methods listed in the IANA SIP parameters registry (see {{bibref|IANA_SIP_Methods}}). SIP extension methods MUST be in the form of the method name in upper case.
 
@@ -176,6 +204,7 @@ Examples:
 	 */
 	public void  setExtensions(Collection<String> extensions) {
 		this.extensions = extensions;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -197,6 +226,7 @@ Examples:
 	 */
 	public Client withExtensions(String string) {
 		getExtensions().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -213,6 +243,19 @@ Examples:
 		return uriSchemes;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported URI scheme beyond the URI schemes REQUIRED by the SIP specification ({{bibref|RFC3261}}). Each URI scheme is given by the URI prefix, without the colon separator.  Example:
+
+"tel, fax"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUriSchemes() {
+		return uriSchemes == null ? Collections.emptyList() : uriSchemes;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported URI scheme beyond the URI schemes REQUIRED by the SIP specification ({{bibref|RFC3261}}). Each URI scheme is given by the URI prefix, without the colon separator.  Example:
 
@@ -223,6 +266,7 @@ Examples:
 	 */
 	public void  setUriSchemes(Collection<String> uriSchemes) {
 		this.uriSchemes = uriSchemes;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -236,6 +280,7 @@ Examples:
 	 */
 	public Client withUriSchemes(String string) {
 		getUriSchemes().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +305,27 @@ Examples:
 		return eventTypes;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported event package among the event packages listed in the IANA registry for SIP Event Type Namespace (see {{bibref|IANA_Event_Packages}}).
+
+The list MAY include vendor-specific event packages, which MUST use the format defined in {{bibref|TR-106}}.
+
+Examples:
+
+: "call-completion"
+
+: "presence"
+
+: "X_EXAMPLE-COM_MyEvtPkg"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEventTypes() {
+		return eventTypes == null ? Collections.emptyList() : eventTypes;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported event package among the event packages listed in the IANA registry for SIP Event Type Namespace (see {{bibref|IANA_Event_Packages}}).
 
@@ -278,6 +344,7 @@ Examples:
 	 */
 	public void  setEventTypes(Collection<String> eventTypes) {
 		this.eventTypes = eventTypes;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -299,6 +366,7 @@ Examples:
 	 */
 	public Client withEventTypes(String string) {
 		getEventTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -317,6 +385,21 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 		return tlsAuthenticationProtocols;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported authentication protocol for TLS transport. 
+
+Enumerated value must be one of [Null, MD5, SHA-1, SHA-2, AEAD]
+
+The list MAY include vendor-specific protocols, which MUST use the format defined in {{bibref|TR-106}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTlsAuthenticationProtocols() {
+		return tlsAuthenticationProtocols == null ? Collections.emptyList() : tlsAuthenticationProtocols;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported authentication protocol for TLS transport. 
 
@@ -329,6 +412,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setTlsAuthenticationProtocols(Collection<String> tlsAuthenticationProtocols) {
 		this.tlsAuthenticationProtocols = tlsAuthenticationProtocols;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -344,6 +428,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public Client withTlsAuthenticationProtocols(String string) {
 		getTlsAuthenticationProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -365,6 +450,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setTlsAuthenticationKeySizes(Long tlsAuthenticationKeySizes) {
 		this.tlsAuthenticationKeySizes = tlsAuthenticationKeySizes;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -376,6 +462,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public Client withTlsAuthenticationKeySizes(Long tlsAuthenticationKeySizes) {
 		this.tlsAuthenticationKeySizes = tlsAuthenticationKeySizes;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -394,6 +481,21 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 		return tlsEncryptionProtocols;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported encryption protocol for TLS transport.  
+
+Enumerated value must be one of [Null, RC4, RC2, DES, 3DES, AES, Camellia]
+
+The list MAY include vendor-specific protocols, which MUST use the format defined in {{bibref|TR-106}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTlsEncryptionProtocols() {
+		return tlsEncryptionProtocols == null ? Collections.emptyList() : tlsEncryptionProtocols;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported encryption protocol for TLS transport.  
 
@@ -406,6 +508,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setTlsEncryptionProtocols(Collection<String> tlsEncryptionProtocols) {
 		this.tlsEncryptionProtocols = tlsEncryptionProtocols;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -421,6 +524,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public Client withTlsEncryptionProtocols(String string) {
 		getTlsEncryptionProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -442,6 +546,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setTlsEncryptionKeySizes(Long tlsEncryptionKeySizes) {
 		this.tlsEncryptionKeySizes = tlsEncryptionKeySizes;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -453,6 +558,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public Client withTlsEncryptionKeySizes(Long tlsEncryptionKeySizes) {
 		this.tlsEncryptionKeySizes = tlsEncryptionKeySizes;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -471,6 +577,21 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 		return tlsKeyExchangeProtocols;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a supported key exchange protocol for TLS transport.  
+
+Enumerated value must be one of [RSA, DSS, DHE-RSA, DHE-DSS, ECDHE-RSA, ECDHE-ECDSA]
+
+The list MAY include vendor-specific protocols, which MUST use the format defined in {{bibref|TR-106}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTlsKeyExchangeProtocols() {
+		return tlsKeyExchangeProtocols == null ? Collections.emptyList() : tlsKeyExchangeProtocols;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a supported key exchange protocol for TLS transport.  
 
@@ -483,6 +604,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setTlsKeyExchangeProtocols(Collection<String> tlsKeyExchangeProtocols) {
 		this.tlsKeyExchangeProtocols = tlsKeyExchangeProtocols;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -498,6 +620,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public Client withTlsKeyExchangeProtocols(String string) {
 		getTlsKeyExchangeProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
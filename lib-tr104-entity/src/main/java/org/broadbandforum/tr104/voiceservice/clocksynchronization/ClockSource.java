@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * List of eligible external clock sources. The number of entries in this table depends on the maximum number of external clock sources supported by the CPE.
@@ -76,6 +78,16 @@ public class ClockSource {
 	@Size(max = 256)
 	public String _interface;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ClockSource() {
 	}
 
@@ -98,6 +110,7 @@ public class ClockSource {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -109,6 +122,7 @@ public class ClockSource {
 	 */
 	public ClockSource withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -130,6 +144,8 @@ public class ClockSource {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -141,6 +157,8 @@ public class ClockSource {
 	 */
 	public ClockSource withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -162,6 +180,8 @@ public class ClockSource {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -173,6 +193,8 @@ public class ClockSource {
 	 */
 	public ClockSource withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -198,6 +220,8 @@ public class ClockSource {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -211,6 +235,8 @@ public class ClockSource {
 	 */
 	public ClockSource with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
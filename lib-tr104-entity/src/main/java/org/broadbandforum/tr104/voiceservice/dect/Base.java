@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.dect.base.Stats;
 
 	/**
@@ -192,6 +194,16 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Base() {
 	}
 
@@ -214,6 +226,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -225,6 +238,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -246,6 +260,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -257,6 +272,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -278,6 +294,8 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -289,6 +307,8 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -310,6 +330,8 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -321,6 +343,8 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -342,6 +366,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -353,6 +378,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -374,6 +400,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -385,6 +412,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -406,6 +434,8 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setRfpI(byte[] rfpI) {
 		this.rfpI = rfpI;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -417,6 +447,8 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withRfpI(byte[] rfpI) {
 		this.rfpI = rfpI;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -438,6 +470,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setMaxSupportedPP(Long maxSupportedPP) {
 		this.maxSupportedPP = maxSupportedPP;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -449,6 +482,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withMaxSupportedPP(Long maxSupportedPP) {
 		this.maxSupportedPP = maxSupportedPP;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -470,6 +504,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setPin(byte[] pin) {
 		this.pin = pin;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -481,6 +516,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withPin(byte[] pin) {
 		this.pin = pin;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -502,6 +538,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setRepeaterSupportEnabled(Boolean repeaterSupportEnabled) {
 		this.repeaterSupportEnabled = repeaterSupportEnabled;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -513,6 +550,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withRepeaterSupportEnabled(Boolean repeaterSupportEnabled) {
 		this.repeaterSupportEnabled = repeaterSupportEnabled;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -534,6 +572,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public void  setNemOEnable(Boolean nemOEnable) {
 		this.nemOEnable = nemOEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -545,6 +584,7 @@ The CPE MUST reset the DECT base's Stats parameters (unless otherwise stated in
 	 */
 	public Base withNemOEnable(Boolean nemOEnable) {
 		this.nemOEnable = nemOEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -570,6 +610,7 @@ If the CPE user can open the ''subscription window'' with a specific command (i.
 	 */
 	public void  setSubscriptionEnable(Boolean subscriptionEnable) {
 		this.subscriptionEnable = subscriptionEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -583,6 +624,7 @@ If the CPE user can open the ''subscription window'' with a specific command (i.
 	 */
 	public Base withSubscriptionEnable(Boolean subscriptionEnable) {
 		this.subscriptionEnable = subscriptionEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -604,6 +646,7 @@ If the CPE user can open the ''subscription window'' with a specific command (i.
 	 */
 	public void  setCipheringEnable(Boolean cipheringEnable) {
 		this.cipheringEnable = cipheringEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -615,6 +658,7 @@ If the CPE user can open the ''subscription window'' with a specific command (i.
 	 */
 	public Base withCipheringEnable(Boolean cipheringEnable) {
 		this.cipheringEnable = cipheringEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -636,6 +680,7 @@ If the CPE user can open the ''subscription window'' with a specific command (i.
 	 */
 	public void  setEncryptionType(String encryptionType) {
 		this.encryptionType = encryptionType;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -647,6 +692,7 @@ If the CPE user can open the ''subscription window'' with a specific command (i.
 	 */
 	public Base withEncryptionType(String encryptionType) {
 		this.encryptionType = encryptionType;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -672,6 +718,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public void  setRfpowerControl(String rfpowerControl) {
 		this.rfpowerControl = rfpowerControl;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -685,6 +732,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public Base withRfpowerControl(String rfpowerControl) {
 		this.rfpowerControl = rfpowerControl;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -706,6 +754,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public void  setFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -717,6 +766,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public Base withFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -738,6 +788,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public void  setEepromVersion(String eepromVersion) {
 		this.eepromVersion = eepromVersion;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -749,6 +800,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public Base withEepromVersion(String eepromVersion) {
 		this.eepromVersion = eepromVersion;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -770,6 +822,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public void  setHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -781,6 +834,7 @@ When set to 'Reduced', the CPE SHALL undertake measures to reduce the transmissi
 	 */
 	public Base withHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
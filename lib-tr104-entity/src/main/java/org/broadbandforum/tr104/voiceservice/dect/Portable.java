@@ -18,6 +18,7 @@ package org.broadbandforum.tr104.voiceservice.dect;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,10 +26,14 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * DECT portable table.
@@ -209,6 +214,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 * @since 2.0
 	 */
 	@XmlElement(name = "SubscriptionTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime subscriptionTime;
 	/**
 	 * This parameter MAY be used by the ACS to control the registration status of the portable.
@@ -247,6 +253,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastUpdateDateTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdateDateTime;
 	/**
 	 * The name of the operator that will be displayed on the portable, if it supports this feature.
@@ -258,6 +265,16 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	@Size(max = 32)
 	public String operatorName;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Portable() {
 	}
 
@@ -280,6 +297,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -291,6 +309,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -312,6 +331,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -323,6 +343,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -344,6 +365,8 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -355,6 +378,8 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -371,6 +396,19 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 		return codecList;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+The CPE SHOULD use the first enabled item in the list among those supported by the portable.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCodecList() {
+		return codecList == null ? Collections.emptyList() : codecList;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -381,6 +419,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCodecList(Collection<String> codecList) {
 		this.codecList = codecList;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -394,6 +433,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Portable withCodecList(String string) {
 		getCodecList().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -415,6 +455,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setRegistrationStatus(String registrationStatus) {
 		this.registrationStatus = registrationStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -426,6 +467,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Portable withRegistrationStatus(String registrationStatus) {
 		this.registrationStatus = registrationStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -543,6 +585,7 @@ Examples :
 	 */
 	public void  setIpuI(byte[] ipuI) {
 		this.ipuI = ipuI;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -602,6 +645,7 @@ Examples :
 	 */
 	public Portable withIpuI(byte[] ipuI) {
 		this.ipuI = ipuI;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -623,6 +667,7 @@ Examples :
 	 */
 	public void  setIpuILength(Long ipuILength) {
 		this.ipuILength = ipuILength;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -634,6 +679,7 @@ Examples :
 	 */
 	public Portable withIpuILength(Long ipuILength) {
 		this.ipuILength = ipuILength;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -675,6 +721,8 @@ The hexbinary string is encoded as follows :
 	 */
 	public void  setIpeI(byte[] ipeI) {
 		this.ipeI = ipeI;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -696,6 +744,8 @@ The hexbinary string is encoded as follows :
 	 */
 	public Portable withIpeI(byte[] ipeI) {
 		this.ipeI = ipeI;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -749,6 +799,7 @@ The hexbinary string is encoded as follows :
 	 */
 	public void  setParK(byte[] parK) {
 		this.parK = parK;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -776,6 +827,7 @@ The hexbinary string is encoded as follows :
 	 */
 	public Portable withParK(byte[] parK) {
 		this.parK = parK;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -797,6 +849,7 @@ The hexbinary string is encoded as follows :
 	 */
 	public void  setBaseAttachedTo(String baseAttachedTo) {
 		this.baseAttachedTo = baseAttachedTo;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -808,6 +861,7 @@ The hexbinary string is encoded as follows :
 	 */
 	public Portable withBaseAttachedTo(String baseAttachedTo) {
 		this.baseAttachedTo = baseAttachedTo;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -822,6 +876,17 @@ The hexbinary string is encoded as follows :
 		return portableType;
 	}
 
+	/**
+	 * Read the {{list}} Protocols used for connection.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPortableType() {
+		return portableType == null ? Collections.emptyList() : portableType;
+	}
+
 	/**
 	 * Set the {{list}} Protocols used for connection.
 	 *
@@ -830,6 +895,7 @@ The hexbinary string is encoded as follows :
 	 */
 	public void  setPortableType(Collection<String> portableType) {
 		this.portableType = portableType;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -841,6 +907,7 @@ The hexbinary string is encoded as follows :
 	 */
 	public Portable withPortableType(String string) {
 		getPortableType().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -866,6 +933,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setSubscriptionTime(LocalDateTime subscriptionTime) {
 		this.subscriptionTime = subscriptionTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -879,6 +947,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withSubscriptionTime(LocalDateTime subscriptionTime) {
 		this.subscriptionTime = subscriptionTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -900,6 +969,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setControl(String control) {
 		this.control = control;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -911,6 +981,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withControl(String control) {
 		this.control = control;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -932,6 +1003,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -943,6 +1015,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -964,6 +1037,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -975,6 +1049,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -996,6 +1071,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setSoftwareUpgrade(Boolean softwareUpgrade) {
 		this.softwareUpgrade = softwareUpgrade;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1007,6 +1083,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withSoftwareUpgrade(Boolean softwareUpgrade) {
 		this.softwareUpgrade = softwareUpgrade;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1028,6 +1105,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setLastUpdateDateTime(LocalDateTime lastUpdateDateTime) {
 		this.lastUpdateDateTime = lastUpdateDateTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1039,6 +1117,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withLastUpdateDateTime(LocalDateTime lastUpdateDateTime) {
 		this.lastUpdateDateTime = lastUpdateDateTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1060,6 +1139,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setOperatorName(String operatorName) {
 		this.operatorName = operatorName;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1071,6 +1151,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public Portable withOperatorName(String operatorName) {
 		this.operatorName = operatorName;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is associated with statistics collected from the DECT domain of the CPE. The collected statistics are common for all call scenarios. 
@@ -77,6 +78,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long syncFailures;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -99,6 +105,7 @@ public class Stats {
 	 */
 	public void  setHandovers(Long handovers) {
 		this.handovers = handovers;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +117,7 @@ public class Stats {
 	 */
 	public Stats withHandovers(Long handovers) {
 		this.handovers = handovers;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +139,7 @@ public class Stats {
 	 */
 	public void  setHandoverFailures(Long handoverFailures) {
 		this.handoverFailures = handoverFailures;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -142,6 +151,7 @@ public class Stats {
 	 */
 	public Stats withHandoverFailures(Long handoverFailures) {
 		this.handoverFailures = handoverFailures;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -163,6 +173,7 @@ public class Stats {
 	 */
 	public void  setControlFieldErrors(Long controlFieldErrors) {
 		this.controlFieldErrors = controlFieldErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -174,6 +185,7 @@ public class Stats {
 	 */
 	public Stats withControlFieldErrors(Long controlFieldErrors) {
 		this.controlFieldErrors = controlFieldErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -195,6 +207,7 @@ public class Stats {
 	 */
 	public void  setPayloadFieldErrors(Long payloadFieldErrors) {
 		this.payloadFieldErrors = payloadFieldErrors;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -206,6 +219,7 @@ public class Stats {
 	 */
 	public Stats withPayloadFieldErrors(Long payloadFieldErrors) {
 		this.payloadFieldErrors = payloadFieldErrors;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -227,6 +241,7 @@ public class Stats {
 	 */
 	public void  setSyncFailures(Long syncFailures) {
 		this.syncFailures = syncFailures;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -238,6 +253,7 @@ public class Stats {
 	 */
 	public Stats withSyncFailures(Long syncFailures) {
 		this.syncFailures = syncFailures;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * H.323 client table (a client as described in {{bibref|TR-104i2|Section 4.2}}). Each H.323 client maintains a registration for the H.323 identities of the associated line with the {{object|#.Network}}.
@@ -123,6 +125,16 @@ A value of zero indicates no explicit limit on the number of sessions.
 	@CWMPParameter(access = "readWrite")
 	public Long maxSessions = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -145,6 +157,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -156,6 +169,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -177,6 +191,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -188,6 +203,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -209,6 +225,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -220,6 +237,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -241,6 +259,8 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -252,6 +272,8 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -273,6 +295,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setH235Authentication(Boolean h235Authentication) {
 		this.h235Authentication = h235Authentication;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -284,6 +307,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withH235Authentication(Boolean h235Authentication) {
 		this.h235Authentication = h235Authentication;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -305,6 +329,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -316,6 +341,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -337,6 +363,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setSendersID(String sendersID) {
 		this.sendersID = sendersID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -348,6 +375,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withSendersID(String sendersID) {
 		this.sendersID = sendersID;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -373,6 +401,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -386,6 +415,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -407,6 +437,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setH323ID(String h323ID) {
 		this.h323ID = h323ID;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -418,6 +449,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withH323ID(String h323ID) {
 		this.h323ID = h323ID;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -443,6 +475,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -456,6 +489,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.h323;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object models a H.323 network (a network as described in {{bibref|TR-104i2|Section 4.2}}).
@@ -200,6 +203,16 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	@XmlList
 	public Collection<String> codecList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Network() {
 	}
 
@@ -222,6 +235,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -233,6 +247,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -254,6 +269,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -265,6 +281,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -286,6 +303,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -297,6 +315,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -318,6 +337,8 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -329,6 +350,8 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -350,6 +373,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setGatekeeper(String gatekeeper) {
 		this.gatekeeper = gatekeeper;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -361,6 +385,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withGatekeeper(String gatekeeper) {
 		this.gatekeeper = gatekeeper;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -382,6 +407,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setGatekeeperPort(Long gatekeeperPort) {
 		this.gatekeeperPort = gatekeeperPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -393,6 +419,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withGatekeeperPort(Long gatekeeperPort) {
 		this.gatekeeperPort = gatekeeperPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -414,6 +441,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setGatekeeperID(String gatekeeperID) {
 		this.gatekeeperID = gatekeeperID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -425,6 +453,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withGatekeeperID(String gatekeeperID) {
 		this.gatekeeperID = gatekeeperID;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -446,6 +475,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setTimeToLive(Long timeToLive) {
 		this.timeToLive = timeToLive;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -457,6 +487,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withTimeToLive(Long timeToLive) {
 		this.timeToLive = timeToLive;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -478,6 +509,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -489,6 +521,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -514,6 +547,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} is greater than zero, then
 	 */
 	public void  setVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -527,6 +561,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} is greater than zero, then
 	 */
 	public Network withVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -552,6 +587,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -565,6 +601,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public Network withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -586,6 +623,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public void  setStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -597,6 +635,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public Network withStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -618,6 +657,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public void  setStuNServer(String stuNServer) {
 		this.stuNServer = stuNServer;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -629,6 +669,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public Network withStuNServer(String stuNServer) {
 		this.stuNServer = stuNServer;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -650,6 +691,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public void  setNonVoiceBandwidthReservedUpstream(Long nonVoiceBandwidthReservedUpstream) {
 		this.nonVoiceBandwidthReservedUpstream = nonVoiceBandwidthReservedUpstream;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -661,6 +703,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public Network withNonVoiceBandwidthReservedUpstream(Long nonVoiceBandwidthReservedUpstream) {
 		this.nonVoiceBandwidthReservedUpstream = nonVoiceBandwidthReservedUpstream;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -682,6 +725,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public void  setNonVoiceBandwidthReservedDownstream(Long nonVoiceBandwidthReservedDownstream) {
 		this.nonVoiceBandwidthReservedDownstream = nonVoiceBandwidthReservedDownstream;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -693,6 +737,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public Network withNonVoiceBandwidthReservedDownstream(Long nonVoiceBandwidthReservedDownstream) {
 		this.nonVoiceBandwidthReservedDownstream = nonVoiceBandwidthReservedDownstream;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -718,6 +763,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -731,6 +777,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -756,6 +803,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -769,6 +817,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -785,6 +834,19 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 		return codecList;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+The CPE SHOULD use the first enabled item in the list among those supported by the remote endpoint and consistent with the available bandwidth.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCodecList() {
+		return codecList == null ? Collections.emptyList() : codecList;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -795,6 +857,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCodecList(Collection<String> codecList) {
 		this.codecList = codecList;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -808,6 +871,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withCodecList(String string) {
 		getCodecList().add(string);
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * For interworking use cases such as SIP-ISDN PBX plug and ESBC : mapping instance between a Network interface and a User extension.
@@ -75,6 +79,7 @@ public class Map {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastTime;
 	/**
 	 * Mechanism via which this connection mapping was assigned.  {{enum}}
@@ -132,6 +137,16 @@ This parameter is applicable only if the User interface supports per digit diali
 	@Size(min = 1)
 	public Long priority;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Map() {
 	}
 
@@ -154,6 +169,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +181,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -186,6 +203,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -197,6 +215,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -218,6 +237,8 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -229,6 +250,8 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -250,6 +273,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setStatusDescription(String statusDescription) {
 		this.statusDescription = statusDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +285,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withStatusDescription(String statusDescription) {
 		this.statusDescription = statusDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +307,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setLastTime(LocalDateTime lastTime) {
 		this.lastTime = lastTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +319,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withLastTime(LocalDateTime lastTime) {
 		this.lastTime = lastTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +341,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +353,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -346,6 +375,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setNetworkConnection(String networkConnection) {
 		this.networkConnection = networkConnection;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -357,6 +387,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withNetworkConnection(String networkConnection) {
 		this.networkConnection = networkConnection;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -378,6 +409,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setUserConnection(String userConnection) {
 		this.userConnection = userConnection;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -389,6 +421,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withUserConnection(String userConnection) {
 		this.userConnection = userConnection;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -418,6 +451,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setDigitMap(String digitMap) {
 		this.digitMap = digitMap;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -433,6 +467,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withDigitMap(String digitMap) {
 		this.digitMap = digitMap;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -454,6 +489,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setDigitMapEnable(Boolean digitMapEnable) {
 		this.digitMapEnable = digitMapEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -465,6 +501,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withDigitMapEnable(Boolean digitMapEnable) {
 		this.digitMapEnable = digitMapEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -486,6 +523,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -497,6 +535,7 @@ This parameter is applicable only if the User interface supports per digit diali
 	 */
 	public Map withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
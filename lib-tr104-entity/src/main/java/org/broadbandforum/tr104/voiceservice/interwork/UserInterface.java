@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each table entry references a row in the {{object|.SIP.Registrar}} table to identify the User IP address and listening port for the Device and the Network to route calls to.
@@ -77,6 +79,16 @@ public class UserInterface {
 	@Size(max = 256)
 	public String network;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public UserInterface() {
 	}
 
@@ -99,6 +111,7 @@ public class UserInterface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +123,7 @@ public class UserInterface {
 	 */
 	public UserInterface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +145,8 @@ public class UserInterface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -142,6 +158,8 @@ public class UserInterface {
 	 */
 	public UserInterface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +185,8 @@ public class UserInterface {
 	 */
 	public void  setRegistrar(String registrar) {
 		this.registrar = registrar;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -180,6 +200,8 @@ public class UserInterface {
 	 */
 	public UserInterface withRegistrar(String registrar) {
 		this.registrar = registrar;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -205,6 +227,7 @@ public class UserInterface {
 	 */
 	public void  setNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -218,6 +241,7 @@ public class UserInterface {
 	 */
 	public UserInterface withNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
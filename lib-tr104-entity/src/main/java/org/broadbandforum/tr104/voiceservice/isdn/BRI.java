@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * ISDN BRI physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
@@ -198,6 +200,16 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	@Size(min = 1, max = 2)
 	public Long bidirectionalBChannels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public BRI() {
 	}
 
@@ -220,6 +232,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -231,6 +244,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -252,6 +266,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -263,6 +278,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -284,6 +300,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -295,6 +313,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -316,6 +336,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -327,6 +349,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -348,6 +372,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -359,6 +384,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -380,6 +406,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setApplicationInterface(String applicationInterface) {
 		this.applicationInterface = applicationInterface;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -391,6 +418,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withApplicationInterface(String applicationInterface) {
 		this.applicationInterface = applicationInterface;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -416,6 +444,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -429,6 +458,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -450,6 +480,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setProtocolEmulation(String protocolEmulation) {
 		this.protocolEmulation = protocolEmulation;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -461,6 +492,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withProtocolEmulation(String protocolEmulation) {
 		this.protocolEmulation = protocolEmulation;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -482,6 +514,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setPermanentLayer2(Boolean permanentLayer2) {
 		this.permanentLayer2 = permanentLayer2;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -493,6 +526,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withPermanentLayer2(Boolean permanentLayer2) {
 		this.permanentLayer2 = permanentLayer2;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -514,6 +548,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setPermanentLayer1(Boolean permanentLayer1) {
 		this.permanentLayer1 = permanentLayer1;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -525,6 +560,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withPermanentLayer1(Boolean permanentLayer1) {
 		this.permanentLayer1 = permanentLayer1;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -546,6 +582,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setLapdDisconnectionTimeout(Boolean lapdDisconnectionTimeout) {
 		this.lapdDisconnectionTimeout = lapdDisconnectionTimeout;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -557,6 +594,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withLapdDisconnectionTimeout(Boolean lapdDisconnectionTimeout) {
 		this.lapdDisconnectionTimeout = lapdDisconnectionTimeout;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -578,6 +616,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setTeiNegotiation(String teiNegotiation) {
 		this.teiNegotiation = teiNegotiation;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -589,6 +628,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withTeiNegotiation(String teiNegotiation) {
 		this.teiNegotiation = teiNegotiation;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -610,6 +650,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setStaticTEI(Long staticTEI) {
 		this.staticTEI = staticTEI;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -621,6 +662,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withStaticTEI(Long staticTEI) {
 		this.staticTEI = staticTEI;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -642,6 +684,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setLifeLineHold(Boolean lifeLineHold) {
 		this.lifeLineHold = lifeLineHold;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -653,6 +696,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withLifeLineHold(Boolean lifeLineHold) {
 		this.lifeLineHold = lifeLineHold;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -674,6 +718,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setPowerSourceOne(Boolean powerSourceOne) {
 		this.powerSourceOne = powerSourceOne;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -685,6 +730,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withPowerSourceOne(Boolean powerSourceOne) {
 		this.powerSourceOne = powerSourceOne;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -706,6 +752,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setMaxNumBChannels(Long maxNumBChannels) {
 		this.maxNumBChannels = maxNumBChannels;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -717,6 +764,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withMaxNumBChannels(Long maxNumBChannels) {
 		this.maxNumBChannels = maxNumBChannels;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -738,6 +786,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setOutboundOnlyBChannels(Long outboundOnlyBChannels) {
 		this.outboundOnlyBChannels = outboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -749,6 +798,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withOutboundOnlyBChannels(Long outboundOnlyBChannels) {
 		this.outboundOnlyBChannels = outboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -770,6 +820,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setInboundOnlyBChannels(Long inboundOnlyBChannels) {
 		this.inboundOnlyBChannels = inboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -781,6 +832,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withInboundOnlyBChannels(Long inboundOnlyBChannels) {
 		this.inboundOnlyBChannels = inboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -802,6 +854,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setBidirectionalBChannels(Long bidirectionalBChannels) {
 		this.bidirectionalBChannels = bidirectionalBChannels;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -813,6 +866,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public BRI withBidirectionalBChannels(Long bidirectionalBChannels) {
 		this.bidirectionalBChannels = bidirectionalBChannels;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * ISDN PRI physical interfaces table (a voice physical interface as described in {{bibref|TR-104i2|Section 4.1}}).
@@ -181,6 +183,16 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	@CWMPParameter(access = "readWrite")
 	public String clockMode;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PRI() {
 	}
 
@@ -203,6 +215,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -214,6 +227,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -235,6 +249,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -246,6 +261,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -267,6 +283,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -278,6 +296,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -299,6 +319,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -310,6 +332,8 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -331,6 +355,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -342,6 +367,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -363,6 +389,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setApplicationInterface(String applicationInterface) {
 		this.applicationInterface = applicationInterface;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -374,6 +401,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withApplicationInterface(String applicationInterface) {
 		this.applicationInterface = applicationInterface;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -399,6 +427,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -412,6 +441,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -433,6 +463,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setProtocolEmulation(String protocolEmulation) {
 		this.protocolEmulation = protocolEmulation;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -444,6 +475,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withProtocolEmulation(String protocolEmulation) {
 		this.protocolEmulation = protocolEmulation;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -465,6 +497,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setPermanentLayer2(Boolean permanentLayer2) {
 		this.permanentLayer2 = permanentLayer2;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -476,6 +509,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withPermanentLayer2(Boolean permanentLayer2) {
 		this.permanentLayer2 = permanentLayer2;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -497,6 +531,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setLinecode(String linecode) {
 		this.linecode = linecode;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -508,6 +543,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withLinecode(String linecode) {
 		this.linecode = linecode;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -529,6 +565,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setEsf(String esf) {
 		this.esf = esf;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -540,6 +577,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withEsf(String esf) {
 		this.esf = esf;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -561,6 +599,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setPhysicalInterfaceType(String physicalInterfaceType) {
 		this.physicalInterfaceType = physicalInterfaceType;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -572,6 +611,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withPhysicalInterfaceType(String physicalInterfaceType) {
 		this.physicalInterfaceType = physicalInterfaceType;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -593,6 +633,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setMaxNumBChannels(Long maxNumBChannels) {
 		this.maxNumBChannels = maxNumBChannels;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -604,6 +645,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withMaxNumBChannels(Long maxNumBChannels) {
 		this.maxNumBChannels = maxNumBChannels;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -625,6 +667,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setOutboundOnlyBChannels(Long outboundOnlyBChannels) {
 		this.outboundOnlyBChannels = outboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -636,6 +679,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withOutboundOnlyBChannels(Long outboundOnlyBChannels) {
 		this.outboundOnlyBChannels = outboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -657,6 +701,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setInboundOnlyBChannels(Long inboundOnlyBChannels) {
 		this.inboundOnlyBChannels = inboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -668,6 +713,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withInboundOnlyBChannels(Long inboundOnlyBChannels) {
 		this.inboundOnlyBChannels = inboundOnlyBChannels;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -689,6 +735,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setBidirectionalBChannels(Long bidirectionalBChannels) {
 		this.bidirectionalBChannels = bidirectionalBChannels;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -700,6 +747,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withBidirectionalBChannels(Long bidirectionalBChannels) {
 		this.bidirectionalBChannels = bidirectionalBChannels;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -721,6 +769,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public void  setClockMode(String clockMode) {
 		this.clockMode = clockMode;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -732,6 +781,7 @@ The list MAY include vendor-specific protocols, which MUST use the format define
 	 */
 	public PRI withClockMode(String clockMode) {
 		this.clockMode = clockMode;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
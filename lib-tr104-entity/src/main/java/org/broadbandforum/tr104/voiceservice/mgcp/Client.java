@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * MGCP client table (a client as described in {{bibref|TR-104i2|Section 4.2}}). Each MGCP client maintains a registration for the MGCP identities of the associated line with the {{object|#.Network}}.
@@ -125,6 +127,16 @@ A value of zero indicates no explicit limit on the number of sessions.
 	@CWMPParameter(access = "readWrite")
 	public Long maxSessions = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -147,6 +159,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -158,6 +171,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -179,6 +193,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -190,6 +205,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -211,6 +227,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -222,6 +239,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -243,6 +261,8 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -254,6 +274,8 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -275,6 +297,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setRegisterMode(String registerMode) {
 		this.registerMode = registerMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -286,6 +309,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withRegisterMode(String registerMode) {
 		this.registerMode = registerMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -307,6 +331,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setLocalPort(Long localPort) {
 		this.localPort = localPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -318,6 +343,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withLocalPort(Long localPort) {
 		this.localPort = localPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -339,6 +365,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -350,6 +377,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -371,6 +399,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setUser(String user) {
 		this.user = user;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -382,6 +411,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withUser(String user) {
 		this.user = user;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -407,6 +437,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -420,6 +451,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -445,6 +477,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -458,6 +491,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
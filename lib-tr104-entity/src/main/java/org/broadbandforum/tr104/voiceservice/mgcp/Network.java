@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.mgcp;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object models a MGCP network (a network as described in {{bibref|TR-104i2|Section 4.2}}).
@@ -238,6 +241,16 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	@XmlList
 	public Collection<String> codecList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Network() {
 	}
 
@@ -260,6 +273,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -271,6 +285,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -292,6 +307,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -303,6 +319,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -324,6 +341,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -335,6 +353,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -356,6 +375,8 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -367,6 +388,8 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -388,6 +411,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCallAgent1(String callAgent1) {
 		this.callAgent1 = callAgent1;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -399,6 +423,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withCallAgent1(String callAgent1) {
 		this.callAgent1 = callAgent1;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -420,6 +445,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCallAgentPort1(Long callAgentPort1) {
 		this.callAgentPort1 = callAgentPort1;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -431,6 +457,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withCallAgentPort1(Long callAgentPort1) {
 		this.callAgentPort1 = callAgentPort1;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -452,6 +479,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCallAgent2(String callAgent2) {
 		this.callAgent2 = callAgent2;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -463,6 +491,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withCallAgent2(String callAgent2) {
 		this.callAgent2 = callAgent2;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -484,6 +513,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCallAgentPort2(Long callAgentPort2) {
 		this.callAgentPort2 = callAgentPort2;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -495,6 +525,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withCallAgentPort2(Long callAgentPort2) {
 		this.callAgentPort2 = callAgentPort2;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -516,6 +547,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setRetranIntervalTimer(Long retranIntervalTimer) {
 		this.retranIntervalTimer = retranIntervalTimer;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -527,6 +559,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withRetranIntervalTimer(Long retranIntervalTimer) {
 		this.retranIntervalTimer = retranIntervalTimer;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -548,6 +581,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setMaxRetranCount(Long maxRetranCount) {
 		this.maxRetranCount = maxRetranCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -559,6 +593,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withMaxRetranCount(Long maxRetranCount) {
 		this.maxRetranCount = maxRetranCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -580,6 +615,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -591,6 +627,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -616,6 +653,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} are greater than zero, the
 	 */
 	public void  setVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -629,6 +667,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} are greater than zero, the
 	 */
 	public Network withVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -654,6 +693,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -667,6 +707,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -688,6 +729,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setAllowPiggybackEvents(Boolean allowPiggybackEvents) {
 		this.allowPiggybackEvents = allowPiggybackEvents;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -699,6 +741,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withAllowPiggybackEvents(Boolean allowPiggybackEvents) {
 		this.allowPiggybackEvents = allowPiggybackEvents;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -720,6 +763,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setSendRSIPImmediately(Boolean sendRSIPImmediately) {
 		this.sendRSIPImmediately = sendRSIPImmediately;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -731,6 +775,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withSendRSIPImmediately(Boolean sendRSIPImmediately) {
 		this.sendRSIPImmediately = sendRSIPImmediately;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -752,6 +797,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -763,6 +809,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -784,6 +831,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setStuNServer(String stuNServer) {
 		this.stuNServer = stuNServer;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -795,6 +843,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withStuNServer(String stuNServer) {
 		this.stuNServer = stuNServer;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -816,6 +865,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setNonVoiceBandwidthReservedUpstream(Long nonVoiceBandwidthReservedUpstream) {
 		this.nonVoiceBandwidthReservedUpstream = nonVoiceBandwidthReservedUpstream;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -827,6 +877,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withNonVoiceBandwidthReservedUpstream(Long nonVoiceBandwidthReservedUpstream) {
 		this.nonVoiceBandwidthReservedUpstream = nonVoiceBandwidthReservedUpstream;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -848,6 +899,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setNonVoiceBandwidthReservedDownstream(Long nonVoiceBandwidthReservedDownstream) {
 		this.nonVoiceBandwidthReservedDownstream = nonVoiceBandwidthReservedDownstream;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -859,6 +911,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withNonVoiceBandwidthReservedDownstream(Long nonVoiceBandwidthReservedDownstream) {
 		this.nonVoiceBandwidthReservedDownstream = nonVoiceBandwidthReservedDownstream;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -884,6 +937,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -897,6 +951,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -922,6 +977,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -935,6 +991,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -951,6 +1008,19 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 		return codecList;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+The CPE SHOULD use the first enabled item in the list among those supported by the remote endpoint and consistent with the available bandwidth.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCodecList() {
+		return codecList == null ? Collections.emptyList() : codecList;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -961,6 +1031,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCodecList(Collection<String> codecList) {
 		this.codecList = codecList;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -974,6 +1045,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withCodecList(String string) {
 		getCodecList().add(string);
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
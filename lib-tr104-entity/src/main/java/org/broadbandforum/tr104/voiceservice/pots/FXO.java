@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.pots.fxo.DiagTests;
 
 	/**
@@ -167,6 +169,16 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	@XmlElement(name = "DiagTests")
 	public DiagTests diagTests;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public FXO() {
 	}
 
@@ -189,6 +201,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -200,6 +213,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -221,6 +235,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -232,6 +247,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -253,6 +269,8 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -264,6 +282,8 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -285,6 +305,8 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -296,6 +318,8 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -317,6 +341,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -328,6 +353,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -357,6 +383,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setSecondStepDialing(Boolean secondStepDialing) {
 		this.secondStepDialing = secondStepDialing;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -372,6 +399,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withSecondStepDialing(Boolean secondStepDialing) {
 		this.secondStepDialing = secondStepDialing;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -393,6 +421,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setTimeoutBeforeDialing(Long timeoutBeforeDialing) {
 		this.timeoutBeforeDialing = timeoutBeforeDialing;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -404,6 +433,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withTimeoutBeforeDialing(Long timeoutBeforeDialing) {
 		this.timeoutBeforeDialing = timeoutBeforeDialing;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -425,6 +455,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setRingingTimeout(Long ringingTimeout) {
 		this.ringingTimeout = ringingTimeout;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -436,6 +467,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withRingingTimeout(Long ringingTimeout) {
 		this.ringingTimeout = ringingTimeout;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -457,6 +489,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setRingNumber(Long ringNumber) {
 		this.ringNumber = ringNumber;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -468,6 +501,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withRingNumber(Long ringNumber) {
 		this.ringNumber = ringNumber;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -489,6 +523,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setOnhookMinDuration(Long onhookMinDuration) {
 		this.onhookMinDuration = onhookMinDuration;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -500,6 +535,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withOnhookMinDuration(Long onhookMinDuration) {
 		this.onhookMinDuration = onhookMinDuration;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -521,6 +557,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setSignalingMode(String signalingMode) {
 		this.signalingMode = signalingMode;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -532,6 +569,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withSignalingMode(String signalingMode) {
 		this.signalingMode = signalingMode;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -553,6 +591,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setDtmFDialoutInterval(Long dtmFDialoutInterval) {
 		this.dtmFDialoutInterval = dtmFDialoutInterval;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -564,6 +603,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withDtmFDialoutInterval(Long dtmFDialoutInterval) {
 		this.dtmFDialoutInterval = dtmFDialoutInterval;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -585,6 +625,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setCallerIdDetectionEnable(Boolean callerIdDetectionEnable) {
 		this.callerIdDetectionEnable = callerIdDetectionEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -596,6 +637,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withCallerIdDetectionEnable(Boolean callerIdDetectionEnable) {
 		this.callerIdDetectionEnable = callerIdDetectionEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -617,6 +659,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -628,6 +671,7 @@ If {{true}}, the FXO port goes directly to the off-hook state and works as a FXS
 	 */
 	public FXO withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
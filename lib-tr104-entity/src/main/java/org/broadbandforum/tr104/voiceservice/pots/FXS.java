@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.pots.fxs.DiagTests;
 import org.broadbandforum.tr104.voiceservice.pots.fxs.VoiceProcessing;
 
@@ -148,6 +150,16 @@ public class FXS {
 	@XmlElement(name = "DiagTests")
 	public DiagTests diagTests;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public FXS() {
 	}
 
@@ -170,6 +182,7 @@ public class FXS {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -181,6 +194,7 @@ public class FXS {
 	 */
 	public FXS withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -202,6 +216,7 @@ public class FXS {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -213,6 +228,7 @@ public class FXS {
 	 */
 	public FXS withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -234,6 +250,8 @@ public class FXS {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -245,6 +263,8 @@ public class FXS {
 	 */
 	public FXS withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -266,6 +286,8 @@ public class FXS {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -277,6 +299,8 @@ public class FXS {
 	 */
 	public FXS withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -298,6 +322,7 @@ public class FXS {
 	 */
 	public void  setToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -309,6 +334,7 @@ public class FXS {
 	 */
 	public FXS withToneEventProfile(String toneEventProfile) {
 		this.toneEventProfile = toneEventProfile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -330,6 +356,7 @@ public class FXS {
 	 */
 	public void  setFaxPassThrough(String faxPassThrough) {
 		this.faxPassThrough = faxPassThrough;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -341,6 +368,7 @@ public class FXS {
 	 */
 	public FXS withFaxPassThrough(String faxPassThrough) {
 		this.faxPassThrough = faxPassThrough;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -362,6 +390,7 @@ public class FXS {
 	 */
 	public void  setModemPassThrough(String modemPassThrough) {
 		this.modemPassThrough = modemPassThrough;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -373,6 +402,7 @@ public class FXS {
 	 */
 	public FXS withModemPassThrough(String modemPassThrough) {
 		this.modemPassThrough = modemPassThrough;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -394,6 +424,7 @@ public class FXS {
 	 */
 	public void  setDialType(String dialType) {
 		this.dialType = dialType;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -405,6 +436,7 @@ public class FXS {
 	 */
 	public FXS withDialType(String dialType) {
 		this.dialType = dialType;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -426,6 +458,7 @@ public class FXS {
 	 */
 	public void  setClipGeneration(Boolean clipGeneration) {
 		this.clipGeneration = clipGeneration;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -437,6 +470,7 @@ public class FXS {
 	 */
 	public FXS withClipGeneration(Boolean clipGeneration) {
 		this.clipGeneration = clipGeneration;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -458,6 +492,7 @@ public class FXS {
 	 */
 	public void  setChargingPulse(Boolean chargingPulse) {
 		this.chargingPulse = chargingPulse;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -469,6 +504,7 @@ public class FXS {
 	 */
 	public FXS withChargingPulse(Boolean chargingPulse) {
 		this.chargingPulse = chargingPulse;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -490,6 +526,7 @@ public class FXS {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -501,6 +538,7 @@ public class FXS {
 	 */
 	public FXS withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -522,6 +560,7 @@ public class FXS {
 	 */
 	public void  setTerminalType(String terminalType) {
 		this.terminalType = terminalType;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -533,6 +572,7 @@ public class FXS {
 	 */
 	public FXS withTerminalType(String terminalType) {
 		this.terminalType = terminalType;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.pots;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.pots.ringer.Event;
 
 	/**
@@ -54,10 +55,20 @@ public class Ringer {
 	 * @return the value
 	 */
 	public Collection<Event> getEvents() {
-		if (this.events == null){ this.events=new ArrayList<>();}
+		if (!(this.events instanceof InstanceTable)){ this.events=InstanceTable.of(this.events);}
 		return events;
 	}
 
+	/**
+	 * Read the table of events for which a ring pattern is defined.  The table is pre-populated with the complete list of events for which the CPE supports definition of ring patterns.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Event> viewEvents() {
+		return events == null ? Collections.emptyList() : events;
+	}
+
 	/**
 	 * Set the table of events for which a ring pattern is defined.  The table is pre-populated with the complete list of events for which the CPE supports definition of ring patterns.
 	 *
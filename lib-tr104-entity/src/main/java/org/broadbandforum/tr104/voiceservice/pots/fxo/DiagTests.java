@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * FXO port tests.
@@ -76,6 +77,11 @@ The parameter MAY instead indicate a vendor-specific result, which MUST use the
 	@XmlElement(name = "TestResult")
 	public String testResult;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DiagTests() {
 	}
 
@@ -126,6 +132,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -151,6 +158,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public DiagTests withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -176,6 +184,7 @@ The parameter MAY instead indicate a vendor-specific test, which MUST use the fo
 	 */
 	public void  setTestSelector(String testSelector) {
 		this.testSelector = testSelector;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -189,6 +198,7 @@ The parameter MAY instead indicate a vendor-specific test, which MUST use the fo
 	 */
 	public DiagTests withTestSelector(String testSelector) {
 		this.testSelector = testSelector;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -214,6 +224,7 @@ The parameter MAY instead indicate a vendor-specific result, which MUST use the
 	 */
 	public void  setTestResult(String testResult) {
 		this.testResult = testResult;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -227,6 +238,7 @@ The parameter MAY instead indicate a vendor-specific result, which MUST use the
 	 */
 	public DiagTests withTestResult(String testResult) {
 		this.testResult = testResult;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
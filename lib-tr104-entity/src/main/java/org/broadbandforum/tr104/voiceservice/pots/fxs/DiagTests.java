@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * FXS port tests.
@@ -72,6 +73,11 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	@XmlElement(name = "TestResult")
 	public String testResult;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DiagTests() {
 	}
 
@@ -122,6 +128,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -147,6 +154,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public DiagTests withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -168,6 +176,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setTestSelector(String testSelector) {
 		this.testSelector = testSelector;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -179,6 +188,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public DiagTests withTestSelector(String testSelector) {
 		this.testSelector = testSelector;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -200,6 +210,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setTestResult(String testResult) {
 		this.testResult = testResult;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -211,6 +222,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public DiagTests withTestResult(String testResult) {
 		this.testResult = testResult;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
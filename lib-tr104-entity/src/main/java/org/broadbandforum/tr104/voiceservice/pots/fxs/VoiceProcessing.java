@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters related to voice processing (analogue/digital conversion) capabilities.
@@ -73,6 +74,11 @@ public class VoiceProcessing {
 	@XmlElement(name = "EchoCancellationTail")
 	public Long echoCancellationTail;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VoiceProcessing() {
 	}
 
@@ -95,6 +101,7 @@ public class VoiceProcessing {
 	 */
 	public void  setTransmitGain(Integer transmitGain) {
 		this.transmitGain = transmitGain;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -106,6 +113,7 @@ public class VoiceProcessing {
 	 */
 	public VoiceProcessing withTransmitGain(Integer transmitGain) {
 		this.transmitGain = transmitGain;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -127,6 +135,7 @@ public class VoiceProcessing {
 	 */
 	public void  setReceiveGain(Integer receiveGain) {
 		this.receiveGain = receiveGain;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -138,6 +147,7 @@ public class VoiceProcessing {
 	 */
 	public VoiceProcessing withReceiveGain(Integer receiveGain) {
 		this.receiveGain = receiveGain;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -159,6 +169,7 @@ public class VoiceProcessing {
 	 */
 	public void  setEchoCancellationEnable(Boolean echoCancellationEnable) {
 		this.echoCancellationEnable = echoCancellationEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -170,6 +181,7 @@ public class VoiceProcessing {
 	 */
 	public VoiceProcessing withEchoCancellationEnable(Boolean echoCancellationEnable) {
 		this.echoCancellationEnable = echoCancellationEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -191,6 +203,7 @@ public class VoiceProcessing {
 	 */
 	public void  setEchoCancellationInUse(Boolean echoCancellationInUse) {
 		this.echoCancellationInUse = echoCancellationInUse;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -202,6 +215,7 @@ public class VoiceProcessing {
 	 */
 	public VoiceProcessing withEchoCancellationInUse(Boolean echoCancellationInUse) {
 		this.echoCancellationInUse = echoCancellationInUse;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -223,6 +237,7 @@ public class VoiceProcessing {
 	 */
 	public void  setEchoCancellationTail(Long echoCancellationTail) {
 		this.echoCancellationTail = echoCancellationTail;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -234,6 +249,7 @@ public class VoiceProcessing {
 	 */
 	public VoiceProcessing withEchoCancellationTail(Long echoCancellationTail) {
 		this.echoCancellationTail = echoCancellationTail;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
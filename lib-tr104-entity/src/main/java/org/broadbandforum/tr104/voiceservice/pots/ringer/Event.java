@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table of events for which a ring pattern is defined.  The table is pre-populated with the complete list of events for which the CPE supports definition of ring patterns.
@@ -67,6 +69,16 @@ See also {{bibref|ETSI_TR_101_183}}.
 	@CWMPParameter(access = "readWrite", units = "milliseconds")
 	public Long cadence;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Event() {
 	}
 
@@ -89,6 +101,8 @@ See also {{bibref|ETSI_TR_101_183}}.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -100,6 +114,8 @@ See also {{bibref|ETSI_TR_101_183}}.
 	 */
 	public Event withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -125,6 +141,8 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public void  setFunction(String function) {
 		this.function = function;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -138,6 +156,8 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public Event withFunction(String function) {
 		this.function = function;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +187,7 @@ See also {{bibref|ETSI_TR_101_183}}.
 	 */
 	public void  setCadence(Long cadence) {
 		this.cadence = cadence;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -182,6 +203,7 @@ See also {{bibref|ETSI_TR_101_183}}.
 	 */
 	public Event withCadence(Long cadence) {
 		this.cadence = cadence;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
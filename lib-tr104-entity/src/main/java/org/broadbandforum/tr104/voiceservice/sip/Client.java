@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.sip;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.sip.client.Contact;
 import org.broadbandforum.tr104.voiceservice.sip.client.EventSubscribe;
 
@@ -185,6 +187,16 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	@CWMPParameter(access = "readWrite")
 	public Collection<EventSubscribe> eventSubscribes;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -207,6 +219,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -218,6 +231,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -239,6 +253,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -250,6 +265,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -271,6 +287,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -282,6 +299,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -303,6 +321,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -314,6 +334,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -335,6 +357,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -346,6 +369,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -371,6 +395,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setRegisterMode(String registerMode) {
 		this.registerMode = registerMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -384,6 +409,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withRegisterMode(String registerMode) {
 		this.registerMode = registerMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -409,6 +435,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setAuthUserName(String authUserName) {
 		this.authUserName = authUserName;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -422,6 +449,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withAuthUserName(String authUserName) {
 		this.authUserName = authUserName;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -447,6 +475,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -460,6 +489,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -489,6 +519,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -504,6 +535,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withNetwork(String network) {
 		this.network = network;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -529,6 +561,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -542,6 +575,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Client withMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -567,6 +601,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setRegisterURI(String registerURI) {
 		this.registerURI = registerURI;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -580,6 +615,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withRegisterURI(String registerURI) {
 		this.registerURI = registerURI;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -601,6 +637,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setE164Format(Boolean e164Format) {
 		this.e164Format = e164Format;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -612,6 +649,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withE164Format(Boolean e164Format) {
 		this.e164Format = e164Format;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -633,6 +671,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setT38Enable(Boolean t38Enable) {
 		this.t38Enable = t38Enable;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -644,6 +683,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Client withT38Enable(Boolean t38Enable) {
 		this.t38Enable = t38Enable;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -653,10 +693,20 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 * @return the value
 	 */
 	public Collection<Contact> getContacts() {
-		if (this.contacts == null){ this.contacts=new ArrayList<>();}
+		if (!(this.contacts instanceof InstanceTable)){ this.contacts=InstanceTable.of(this.contacts);}
 		return contacts;
 	}
 
+	/**
+	 * Get active registrations for this SIP account.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Contact> viewContacts() {
+		return contacts == null ? Collections.emptyList() : contacts;
+	}
+
 	/**
 	 * Set active registrations for this SIP account.
 	 *
@@ -683,10 +733,20 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 * @return the value
 	 */
 	public Collection<EventSubscribe> getEventSubscribes() {
-		if (this.eventSubscribes == null){ this.eventSubscribes=new ArrayList<>();}
+		if (!(this.eventSubscribes instanceof InstanceTable)){ this.eventSubscribes=InstanceTable.of(this.eventSubscribes);}
 		return eventSubscribes;
 	}
 
+	/**
+	 * Read the table of SIP events automatically populated by the CPE with each of the SIP event subscriptions in {{object|.SIP.Network.{i}.EventSubscribe.{i}.}}.  This table allows specification of the authentication credentials needed for each event subscription.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<EventSubscribe> viewEventSubscribes() {
+		return eventSubscribes == null ? Collections.emptyList() : eventSubscribes;
+	}
+
 	/**
 	 * Set the table of SIP events automatically populated by the CPE with each of the SIP event subscriptions in {{object|.SIP.Network.{i}.EventSubscribe.{i}.}}.  This table allows specification of the authentication credentials needed for each event subscription.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.sip;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,7 +30,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.sip.network.EventSubscribe;
 import org.broadbandforum.tr104.voiceservice.sip.network.FQDNServer;
 import org.broadbandforum.tr104.voiceservice.sip.network.ResponseMap;
@@ -628,6 +631,16 @@ A value of zero indicates no explicit limit on the number of sessions.
 	@CWMPParameter(access = "readWrite")
 	public Collection<ResponseMap> responseMaps;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Network() {
 	}
 
@@ -650,6 +663,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -661,6 +675,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -682,6 +697,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -693,6 +709,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -714,6 +731,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -725,6 +743,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -746,6 +765,8 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -757,6 +778,8 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -786,6 +809,7 @@ Regardless of which host the traffic gets sent to ({{param}} or {{param|Outbound
 	 */
 	public void  setProxyServer(String proxyServer) {
 		this.proxyServer = proxyServer;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -801,6 +825,7 @@ Regardless of which host the traffic gets sent to ({{param}} or {{param|Outbound
 	 */
 	public Network withProxyServer(String proxyServer) {
 		this.proxyServer = proxyServer;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -822,6 +847,7 @@ Regardless of which host the traffic gets sent to ({{param}} or {{param|Outbound
 	 */
 	public void  setProxyServerPort(Long proxyServerPort) {
 		this.proxyServerPort = proxyServerPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -833,6 +859,7 @@ Regardless of which host the traffic gets sent to ({{param}} or {{param|Outbound
 	 */
 	public Network withProxyServerPort(Long proxyServerPort) {
 		this.proxyServerPort = proxyServerPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -854,6 +881,7 @@ Regardless of which host the traffic gets sent to ({{param}} or {{param|Outbound
 	 */
 	public void  setProxyServerTransport(String proxyServerTransport) {
 		this.proxyServerTransport = proxyServerTransport;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -865,6 +893,7 @@ Regardless of which host the traffic gets sent to ({{param}} or {{param|Outbound
 	 */
 	public Network withProxyServerTransport(String proxyServerTransport) {
 		this.proxyServerTransport = proxyServerTransport;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -890,6 +919,7 @@ If this parameter is {{empty}}, the CPE MUST obtain all of the registrar server
 	 */
 	public void  setRegistrarServer(String registrarServer) {
 		this.registrarServer = registrarServer;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -903,6 +933,7 @@ If this parameter is {{empty}}, the CPE MUST obtain all of the registrar server
 	 */
 	public Network withRegistrarServer(String registrarServer) {
 		this.registrarServer = registrarServer;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -928,6 +959,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setRegistrarServerPort(Long registrarServerPort) {
 		this.registrarServerPort = registrarServerPort;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -941,6 +973,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withRegistrarServerPort(Long registrarServerPort) {
 		this.registrarServerPort = registrarServerPort;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -966,6 +999,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setRegistrarServerTransport(String registrarServerTransport) {
 		this.registrarServerTransport = registrarServerTransport;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -979,6 +1013,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withRegistrarServerTransport(String registrarServerTransport) {
 		this.registrarServerTransport = registrarServerTransport;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -1004,6 +1039,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setServerDomain(String serverDomain) {
 		this.serverDomain = serverDomain;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -1017,6 +1053,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withServerDomain(String serverDomain) {
 		this.serverDomain = serverDomain;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -1038,6 +1075,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setChosenDomain(String chosenDomain) {
 		this.chosenDomain = chosenDomain;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -1049,6 +1087,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withChosenDomain(String chosenDomain) {
 		this.chosenDomain = chosenDomain;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1070,6 +1109,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setChosenIPAddress(IPAddress chosenIPAddress) {
 		this.chosenIPAddress = chosenIPAddress;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1081,6 +1121,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withChosenIPAddress(IPAddress chosenIPAddress) {
 		this.chosenIPAddress = chosenIPAddress;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1102,6 +1143,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setChosenPort(Long chosenPort) {
 		this.chosenPort = chosenPort;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1113,6 +1155,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withChosenPort(Long chosenPort) {
 		this.chosenPort = chosenPort;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1134,6 +1177,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setUserAgentDomain(String userAgentDomain) {
 		this.userAgentDomain = userAgentDomain;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1145,6 +1189,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withUserAgentDomain(String userAgentDomain) {
 		this.userAgentDomain = userAgentDomain;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1166,6 +1211,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setUserAgentPort(Long userAgentPort) {
 		this.userAgentPort = userAgentPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1177,6 +1223,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withUserAgentPort(Long userAgentPort) {
 		this.userAgentPort = userAgentPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1198,6 +1245,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public void  setUserAgentTransport(String userAgentTransport) {
 		this.userAgentTransport = userAgentTransport;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1209,6 +1257,7 @@ If {{param|RegistrarServer}} is empty the CPE MUST obtain all of the registrar s
 	 */
 	public Network withUserAgentTransport(String userAgentTransport) {
 		this.userAgentTransport = userAgentTransport;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1234,6 +1283,7 @@ When {{param}} is assigned, the name is looked up (resolved) and the correspondi
 	 */
 	public void  setOutboundProxy(String outboundProxy) {
 		this.outboundProxy = outboundProxy;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1247,6 +1297,7 @@ When {{param}} is assigned, the name is looked up (resolved) and the correspondi
 	 */
 	public Network withOutboundProxy(String outboundProxy) {
 		this.outboundProxy = outboundProxy;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1276,6 +1327,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setOutboundProxyResolvedAddress(IPAddress outboundProxyResolvedAddress) {
 		this.outboundProxyResolvedAddress = outboundProxyResolvedAddress;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1291,6 +1343,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withOutboundProxyResolvedAddress(IPAddress outboundProxyResolvedAddress) {
 		this.outboundProxyResolvedAddress = outboundProxyResolvedAddress;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1312,6 +1365,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setOutboundProxyPrecedence(String outboundProxyPrecedence) {
 		this.outboundProxyPrecedence = outboundProxyPrecedence;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1323,6 +1377,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withOutboundProxyPrecedence(String outboundProxyPrecedence) {
 		this.outboundProxyPrecedence = outboundProxyPrecedence;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1344,6 +1399,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setOutboundProxyPort(Long outboundProxyPort) {
 		this.outboundProxyPort = outboundProxyPort;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1355,6 +1411,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withOutboundProxyPort(Long outboundProxyPort) {
 		this.outboundProxyPort = outboundProxyPort;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1376,6 +1433,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1387,6 +1445,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1408,6 +1467,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setStuNServer(String stuNServer) {
 		this.stuNServer = stuNServer;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1419,6 +1479,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withStuNServer(String stuNServer) {
 		this.stuNServer = stuNServer;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1440,6 +1501,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setNonVoiceBandwidthReservedUpstream(Long nonVoiceBandwidthReservedUpstream) {
 		this.nonVoiceBandwidthReservedUpstream = nonVoiceBandwidthReservedUpstream;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1451,6 +1513,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withNonVoiceBandwidthReservedUpstream(Long nonVoiceBandwidthReservedUpstream) {
 		this.nonVoiceBandwidthReservedUpstream = nonVoiceBandwidthReservedUpstream;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1472,6 +1535,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setNonVoiceBandwidthReservedDownstream(Long nonVoiceBandwidthReservedDownstream) {
 		this.nonVoiceBandwidthReservedDownstream = nonVoiceBandwidthReservedDownstream;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1483,6 +1547,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withNonVoiceBandwidthReservedDownstream(Long nonVoiceBandwidthReservedDownstream) {
 		this.nonVoiceBandwidthReservedDownstream = nonVoiceBandwidthReservedDownstream;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1504,6 +1569,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setOrganization(String organization) {
 		this.organization = organization;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1515,6 +1581,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withOrganization(String organization) {
 		this.organization = organization;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1536,6 +1603,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setRegistrationPeriod(Long registrationPeriod) {
 		this.registrationPeriod = registrationPeriod;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1547,6 +1615,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withRegistrationPeriod(Long registrationPeriod) {
 		this.registrationPeriod = registrationPeriod;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1568,6 +1637,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setRealm(String realm) {
 		this.realm = realm;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1579,6 +1649,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withRealm(String realm) {
 		this.realm = realm;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1600,6 +1671,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerT1(Long timerT1) {
 		this.timerT1 = timerT1;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1611,6 +1683,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerT1(Long timerT1) {
 		this.timerT1 = timerT1;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1632,6 +1705,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerT2(Long timerT2) {
 		this.timerT2 = timerT2;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1643,6 +1717,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerT2(Long timerT2) {
 		this.timerT2 = timerT2;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1664,6 +1739,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerT4(Long timerT4) {
 		this.timerT4 = timerT4;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1675,6 +1751,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerT4(Long timerT4) {
 		this.timerT4 = timerT4;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1696,6 +1773,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerA(Long timerA) {
 		this.timerA = timerA;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1707,6 +1785,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerA(Long timerA) {
 		this.timerA = timerA;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1728,6 +1807,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerB(Long timerB) {
 		this.timerB = timerB;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1739,6 +1819,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerB(Long timerB) {
 		this.timerB = timerB;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1760,6 +1841,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerC(Long timerC) {
 		this.timerC = timerC;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -1771,6 +1853,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerC(Long timerC) {
 		this.timerC = timerC;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -1792,6 +1875,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerD(Long timerD) {
 		this.timerD = timerD;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -1803,6 +1887,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerD(Long timerD) {
 		this.timerD = timerD;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -1824,6 +1909,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerE(Long timerE) {
 		this.timerE = timerE;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -1835,6 +1921,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerE(Long timerE) {
 		this.timerE = timerE;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -1856,6 +1943,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerF(Long timerF) {
 		this.timerF = timerF;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -1867,6 +1955,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerF(Long timerF) {
 		this.timerF = timerF;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -1888,6 +1977,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerG(Long timerG) {
 		this.timerG = timerG;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -1899,6 +1989,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerG(Long timerG) {
 		this.timerG = timerG;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -1920,6 +2011,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerH(Long timerH) {
 		this.timerH = timerH;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -1931,6 +2023,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerH(Long timerH) {
 		this.timerH = timerH;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -1952,6 +2045,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerI(Long timerI) {
 		this.timerI = timerI;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -1963,6 +2057,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerI(Long timerI) {
 		this.timerI = timerI;
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -1984,6 +2079,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerJ(Long timerJ) {
 		this.timerJ = timerJ;
+		if (this.dirty != null){ this.dirty.set(40);}
 	}
 
 	/**
@@ -1995,6 +2091,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerJ(Long timerJ) {
 		this.timerJ = timerJ;
+		if (this.dirty != null){ this.dirty.set(40);}
 		return this;
 	}
 
@@ -2016,6 +2113,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setTimerK(Long timerK) {
 		this.timerK = timerK;
+		if (this.dirty != null){ this.dirty.set(41);}
 	}
 
 	/**
@@ -2027,6 +2125,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withTimerK(Long timerK) {
 		this.timerK = timerK;
+		if (this.dirty != null){ this.dirty.set(41);}
 		return this;
 	}
 
@@ -2048,6 +2147,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setInviteExpires(Long inviteExpires) {
 		this.inviteExpires = inviteExpires;
+		if (this.dirty != null){ this.dirty.set(42);}
 	}
 
 	/**
@@ -2059,6 +2159,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withInviteExpires(Long inviteExpires) {
 		this.inviteExpires = inviteExpires;
+		if (this.dirty != null){ this.dirty.set(42);}
 		return this;
 	}
 
@@ -2080,6 +2181,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setReinviteExpires(Long reinviteExpires) {
 		this.reinviteExpires = reinviteExpires;
+		if (this.dirty != null){ this.dirty.set(43);}
 	}
 
 	/**
@@ -2091,6 +2193,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withReinviteExpires(Long reinviteExpires) {
 		this.reinviteExpires = reinviteExpires;
+		if (this.dirty != null){ this.dirty.set(43);}
 		return this;
 	}
 
@@ -2112,6 +2215,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setRegisterExpires(Long registerExpires) {
 		this.registerExpires = registerExpires;
+		if (this.dirty != null){ this.dirty.set(44);}
 	}
 
 	/**
@@ -2123,6 +2227,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withRegisterExpires(Long registerExpires) {
 		this.registerExpires = registerExpires;
+		if (this.dirty != null){ this.dirty.set(44);}
 		return this;
 	}
 
@@ -2144,6 +2249,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setRegisterRetryInterval(Long registerRetryInterval) {
 		this.registerRetryInterval = registerRetryInterval;
+		if (this.dirty != null){ this.dirty.set(45);}
 	}
 
 	/**
@@ -2155,6 +2261,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withRegisterRetryInterval(Long registerRetryInterval) {
 		this.registerRetryInterval = registerRetryInterval;
+		if (this.dirty != null){ this.dirty.set(45);}
 		return this;
 	}
 
@@ -2176,6 +2283,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setInboundAuth(String inboundAuth) {
 		this.inboundAuth = inboundAuth;
+		if (this.dirty != null){ this.dirty.set(46);}
 	}
 
 	/**
@@ -2187,6 +2295,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withInboundAuth(String inboundAuth) {
 		this.inboundAuth = inboundAuth;
+		if (this.dirty != null){ this.dirty.set(46);}
 		return this;
 	}
 
@@ -2208,6 +2317,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setInboundAuthUsername(String inboundAuthUsername) {
 		this.inboundAuthUsername = inboundAuthUsername;
+		if (this.dirty != null){ this.dirty.set(47);}
 	}
 
 	/**
@@ -2219,6 +2329,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withInboundAuthUsername(String inboundAuthUsername) {
 		this.inboundAuthUsername = inboundAuthUsername;
+		if (this.dirty != null){ this.dirty.set(47);}
 		return this;
 	}
 
@@ -2240,6 +2351,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public void  setInboundAuthPassword(String inboundAuthPassword) {
 		this.inboundAuthPassword = inboundAuthPassword;
+		if (this.dirty != null){ this.dirty.set(48);}
 	}
 
 	/**
@@ -2251,6 +2363,7 @@ When {{param|OutboundProxy}} is assigned, the name is looked up (resolved) and t
 	 */
 	public Network withInboundAuthPassword(String inboundAuthPassword) {
 		this.inboundAuthPassword = inboundAuthPassword;
+		if (this.dirty != null){ this.dirty.set(48);}
 		return this;
 	}
 
@@ -2276,6 +2389,7 @@ When {{false}}, there is no specific requirement for choosing the codecs listed
 	 */
 	public void  setUseCodecPriorityInSDPResponse(Boolean useCodecPriorityInSDPResponse) {
 		this.useCodecPriorityInSDPResponse = useCodecPriorityInSDPResponse;
+		if (this.dirty != null){ this.dirty.set(49);}
 	}
 
 	/**
@@ -2289,6 +2403,7 @@ When {{false}}, there is no specific requirement for choosing the codecs listed
 	 */
 	public Network withUseCodecPriorityInSDPResponse(Boolean useCodecPriorityInSDPResponse) {
 		this.useCodecPriorityInSDPResponse = useCodecPriorityInSDPResponse;
+		if (this.dirty != null){ this.dirty.set(49);}
 		return this;
 	}
 
@@ -2310,6 +2425,7 @@ When {{false}}, there is no specific requirement for choosing the codecs listed
 	 */
 	public void  setDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(50);}
 	}
 
 	/**
@@ -2321,6 +2437,7 @@ When {{false}}, there is no specific requirement for choosing the codecs listed
 	 */
 	public Network withDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(50);}
 		return this;
 	}
 
@@ -2346,6 +2463,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} are greater than zero, the
 	 */
 	public void  setVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(51);}
 	}
 
 	/**
@@ -2359,6 +2477,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} are greater than zero, the
 	 */
 	public Network withVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(51);}
 		return this;
 	}
 
@@ -2384,6 +2503,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(52);}
 	}
 
 	/**
@@ -2397,6 +2517,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(52);}
 		return this;
 	}
 
@@ -2418,6 +2539,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setConferenceCallDomainURI(String conferenceCallDomainURI) {
 		this.conferenceCallDomainURI = conferenceCallDomainURI;
+		if (this.dirty != null){ this.dirty.set(53);}
 	}
 
 	/**
@@ -2429,6 +2551,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withConferenceCallDomainURI(String conferenceCallDomainURI) {
 		this.conferenceCallDomainURI = conferenceCallDomainURI;
+		if (this.dirty != null){ this.dirty.set(53);}
 		return this;
 	}
 
@@ -2450,6 +2573,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setTimerLoginRejected(Long timerLoginRejected) {
 		this.timerLoginRejected = timerLoginRejected;
+		if (this.dirty != null){ this.dirty.set(54);}
 	}
 
 	/**
@@ -2461,6 +2585,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withTimerLoginRejected(Long timerLoginRejected) {
 		this.timerLoginRejected = timerLoginRejected;
+		if (this.dirty != null){ this.dirty.set(54);}
 		return this;
 	}
 
@@ -2482,6 +2607,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public void  setNologinRetry(Boolean nologinRetry) {
 		this.nologinRetry = nologinRetry;
+		if (this.dirty != null){ this.dirty.set(55);}
 	}
 
 	/**
@@ -2493,6 +2619,7 @@ If either {{param|VLANIDMark}} or {{param}} are greater than zero, then the outg
 	 */
 	public Network withNologinRetry(Boolean nologinRetry) {
 		this.nologinRetry = nologinRetry;
+		if (this.dirty != null){ this.dirty.set(55);}
 		return this;
 	}
 
@@ -2518,6 +2645,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public void  setTimerRegistrationFailed(Long timerRegistrationFailed) {
 		this.timerRegistrationFailed = timerRegistrationFailed;
+		if (this.dirty != null){ this.dirty.set(56);}
 	}
 
 	/**
@@ -2531,6 +2659,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public Network withTimerRegistrationFailed(Long timerRegistrationFailed) {
 		this.timerRegistrationFailed = timerRegistrationFailed;
+		if (this.dirty != null){ this.dirty.set(56);}
 		return this;
 	}
 
@@ -2552,6 +2681,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public void  setTimerSubscriptionFailed(Long timerSubscriptionFailed) {
 		this.timerSubscriptionFailed = timerSubscriptionFailed;
+		if (this.dirty != null){ this.dirty.set(57);}
 	}
 
 	/**
@@ -2563,6 +2693,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public Network withTimerSubscriptionFailed(Long timerSubscriptionFailed) {
 		this.timerSubscriptionFailed = timerSubscriptionFailed;
+		if (this.dirty != null){ this.dirty.set(57);}
 		return this;
 	}
 
@@ -2584,6 +2715,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public void  setUnansweredRegistrationAttempts(Long unansweredRegistrationAttempts) {
 		this.unansweredRegistrationAttempts = unansweredRegistrationAttempts;
+		if (this.dirty != null){ this.dirty.set(58);}
 	}
 
 	/**
@@ -2595,6 +2727,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public Network withUnansweredRegistrationAttempts(Long unansweredRegistrationAttempts) {
 		this.unansweredRegistrationAttempts = unansweredRegistrationAttempts;
+		if (this.dirty != null){ this.dirty.set(58);}
 		return this;
 	}
 
@@ -2620,6 +2753,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public void  setVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(59);}
 	}
 
 	/**
@@ -2633,6 +2767,7 @@ In case of other response, the CPE shall wait for expiration of this timer befor
 	 */
 	public Network withVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(59);}
 		return this;
 	}
 
@@ -2649,6 +2784,19 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 		return codecList;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+The CPE SHOULD use the first enabled item in the list among those supported by the remote endpoint and consistent with the available bandwidth.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCodecList() {
+		return codecList == null ? Collections.emptyList() : codecList;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -2659,6 +2807,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCodecList(Collection<String> codecList) {
 		this.codecList = codecList;
+		if (this.dirty != null){ this.dirty.set(60);}
 	}
 
 	/**
@@ -2672,6 +2821,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Network withCodecList(String string) {
 		getCodecList().add(string);
+		if (this.dirty != null){ this.dirty.set(60);}
 		return this;
 	}
 
@@ -2697,6 +2847,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public void  setMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(61);}
 	}
 
 	/**
@@ -2710,6 +2861,7 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 */
 	public Network withMaxSessions(Long maxSessions) {
 		this.maxSessions = maxSessions;
+		if (this.dirty != null){ this.dirty.set(61);}
 		return this;
 	}
 
@@ -2719,10 +2871,20 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 * @return the value
 	 */
 	public Collection<FQDNServer> getFqdNServers() {
-		if (this.fqdNServers == null){ this.fqdNServers=new ArrayList<>();}
+		if (!(this.fqdNServers instanceof InstanceTable)){ this.fqdNServers=InstanceTable.of(this.fqdNServers);}
 		return fqdNServers;
 	}
 
+	/**
+	 * Read the table of Fully Qualified Domain Names for this {{object|#}} instance in order to connect to the SIP server as described in {{bibref|RFC2782}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<FQDNServer> viewFqdNServers() {
+		return fqdNServers == null ? Collections.emptyList() : fqdNServers;
+	}
+
 	/**
 	 * Set the table of Fully Qualified Domain Names for this {{object|#}} instance in order to connect to the SIP server as described in {{bibref|RFC2782}}.
 	 *
@@ -2749,10 +2911,20 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 * @return the value
 	 */
 	public Collection<EventSubscribe> getEventSubscribes() {
-		if (this.eventSubscribes == null){ this.eventSubscribes=new ArrayList<>();}
+		if (!(this.eventSubscribes instanceof InstanceTable)){ this.eventSubscribes=InstanceTable.of(this.eventSubscribes);}
 		return eventSubscribes;
 	}
 
+	/**
+	 * Read the table to specify the SIP events to which the CPE MUST subscribe.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<EventSubscribe> viewEventSubscribes() {
+		return eventSubscribes == null ? Collections.emptyList() : eventSubscribes;
+	}
+
 	/**
 	 * Set the table to specify the SIP events to which the CPE MUST subscribe.
 	 *
@@ -2779,10 +2951,20 @@ A value of zero indicates no explicit limit on the number of sessions.
 	 * @return the value
 	 */
 	public Collection<ResponseMap> getResponseMaps() {
-		if (this.responseMaps == null){ this.responseMaps=new ArrayList<>();}
+		if (!(this.responseMaps instanceof InstanceTable)){ this.responseMaps=InstanceTable.of(this.responseMaps);}
 		return responseMaps;
 	}
 
+	/**
+	 * Read the each entry in this table specifies the tone and message to be provided to the user for a particular SIP response received (normally 4xx and 5xx).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ResponseMap> viewResponseMaps() {
+		return responseMaps == null ? Collections.emptyList() : responseMaps;
+	}
+
 	/**
 	 * Set the each entry in this table specifies the tone and message to be provided to the user for a particular SIP response received (normally 4xx and 5xx).
 	 *
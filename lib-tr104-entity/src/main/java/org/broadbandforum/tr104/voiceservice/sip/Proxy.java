@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Global SIP parameters used by the CPE when acting as proxy for SIP user agents.
@@ -108,6 +110,16 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	@Size(max = 256)
 	public String voiPProfile;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Proxy() {
 	}
 
@@ -130,6 +142,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -141,6 +154,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -162,6 +176,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -173,6 +188,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -194,6 +210,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +223,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -226,6 +246,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -237,6 +258,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -262,6 +284,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setProxyIPAddress(IPAddress proxyIPAddress) {
 		this.proxyIPAddress = proxyIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -275,6 +299,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withProxyIPAddress(IPAddress proxyIPAddress) {
 		this.proxyIPAddress = proxyIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -296,6 +322,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setProxyPort(Long proxyPort) {
 		this.proxyPort = proxyPort;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -307,6 +335,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withProxyPort(Long proxyPort) {
 		this.proxyPort = proxyPort;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -328,6 +358,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -339,6 +370,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -364,6 +396,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -377,6 +410,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Proxy withVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.sip;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +28,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.sip.registrar.Account;
 
 	/**
@@ -161,6 +163,16 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	@CWMPParameter(access = "readWrite")
 	public Collection<Account> accounts;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Registrar() {
 	}
 
@@ -183,6 +195,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -194,6 +207,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -215,6 +229,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -226,6 +241,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -247,6 +263,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -258,6 +275,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -279,6 +297,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -290,6 +310,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -311,6 +333,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -322,6 +345,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -347,6 +371,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setRegistrarIPAddress(IPAddress registrarIPAddress) {
 		this.registrarIPAddress = registrarIPAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -360,6 +386,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withRegistrarIPAddress(IPAddress registrarIPAddress) {
 		this.registrarIPAddress = registrarIPAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -381,6 +409,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setRegistrarPort(Long registrarPort) {
 		this.registrarPort = registrarPort;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -392,6 +422,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withRegistrarPort(Long registrarPort) {
 		this.registrarPort = registrarPort;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -413,6 +445,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setRegisterExpires(Long registerExpires) {
 		this.registerExpires = registerExpires;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -424,6 +457,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withRegisterExpires(Long registerExpires) {
 		this.registerExpires = registerExpires;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -445,6 +479,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setPingInterval(Long pingInterval) {
 		this.pingInterval = pingInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -456,6 +491,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withPingInterval(Long pingInterval) {
 		this.pingInterval = pingInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -477,6 +513,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setOrganization(String organization) {
 		this.organization = organization;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -488,6 +525,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withOrganization(String organization) {
 		this.organization = organization;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -509,6 +547,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setRealm(String realm) {
 		this.realm = realm;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -520,6 +559,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withRealm(String realm) {
 		this.realm = realm;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -545,6 +585,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -558,6 +599,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -579,6 +621,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -590,6 +633,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Registrar withContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -599,10 +643,20 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 * @return the value
 	 */
 	public Collection<Account> getAccounts() {
-		if (this.accounts == null){ this.accounts=new ArrayList<>();}
+		if (!(this.accounts instanceof InstanceTable)){ this.accounts=InstanceTable.of(this.accounts);}
 		return accounts;
 	}
 
+	/**
+	 * Read the sip account table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Account> viewAccounts() {
+		return accounts == null ? Collections.emptyList() : accounts;
+	}
+
 	/**
 	 * Set the sip account table.
 	 *
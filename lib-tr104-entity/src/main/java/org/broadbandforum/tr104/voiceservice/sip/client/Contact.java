@@ -22,11 +22,15 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Active registrations for this SIP account.
@@ -111,6 +115,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ExpireTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime expireTime;
 	/**
 	 * The interval in seconds between sending a periodic ping request toward the network (i.e. a SIP OPTIONS ping). The CPE performs the periodic ping request to verify connectivity with the network when SIP registration procedures are not used (i.e. when the SIP client {{param|#.RegisterMode}} is {{enum|STATIC|#.RegisterMode}}). A value of '0' indicates that the CPE should not perform the periodic ping request.
@@ -130,6 +135,16 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	@Size(max = 256)
 	public String userAgent;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Contact() {
 	}
 
@@ -152,6 +167,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -163,6 +179,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -184,6 +201,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -195,6 +213,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -216,6 +235,8 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -227,6 +248,8 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -248,6 +271,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -259,6 +283,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -284,6 +309,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -297,6 +323,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Contact withIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -322,6 +349,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -335,6 +363,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Contact withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -364,6 +393,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -379,6 +409,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Contact withContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -404,6 +435,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setExpireTime(LocalDateTime expireTime) {
 		this.expireTime = expireTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -417,6 +449,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withExpireTime(LocalDateTime expireTime) {
 		this.expireTime = expireTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -438,6 +471,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setPingInterval(Long pingInterval) {
 		this.pingInterval = pingInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -449,6 +483,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withPingInterval(Long pingInterval) {
 		this.pingInterval = pingInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -470,6 +505,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setUserAgent(String userAgent) {
 		this.userAgent = userAgent;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -481,6 +517,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withUserAgent(String userAgent) {
 		this.userAgent = userAgent;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table of SIP events automatically populated by the CPE with each of the SIP event subscriptions in {{object|.SIP.Network.{i}.EventSubscribe.{i}.}}.  This table allows specification of the authentication credentials needed for each event subscription.
@@ -81,6 +83,16 @@ public class EventSubscribe {
 	@Size(max = 128)
 	public String authPassword;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public EventSubscribe() {
 	}
 
@@ -103,6 +115,7 @@ public class EventSubscribe {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -114,6 +127,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +149,8 @@ public class EventSubscribe {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -146,6 +162,8 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +185,8 @@ public class EventSubscribe {
 	 */
 	public void  setEvent(String event) {
 		this.event = event;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -178,6 +198,8 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withEvent(String event) {
 		this.event = event;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -199,6 +221,7 @@ public class EventSubscribe {
 	 */
 	public void  setAuthUserName(String authUserName) {
 		this.authUserName = authUserName;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -210,6 +233,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withAuthUserName(String authUserName) {
 		this.authUserName = authUserName;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -231,6 +255,7 @@ public class EventSubscribe {
 	 */
 	public void  setAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -242,6 +267,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
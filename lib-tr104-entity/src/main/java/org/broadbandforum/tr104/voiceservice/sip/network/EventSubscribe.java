@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table to specify the SIP events to which the CPE MUST subscribe.
@@ -98,6 +100,16 @@ public class EventSubscribe {
 	@CWMPParameter(access = "readWrite", units = "seconds")
 	public Long expireTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public EventSubscribe() {
 	}
 
@@ -120,6 +132,7 @@ public class EventSubscribe {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -131,6 +144,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -152,6 +166,8 @@ public class EventSubscribe {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -163,6 +179,8 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -184,6 +202,8 @@ public class EventSubscribe {
 	 */
 	public void  setEvent(String event) {
 		this.event = event;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -195,6 +215,8 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withEvent(String event) {
 		this.event = event;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -216,6 +238,7 @@ public class EventSubscribe {
 	 */
 	public void  setNotifier(String notifier) {
 		this.notifier = notifier;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -227,6 +250,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withNotifier(String notifier) {
 		this.notifier = notifier;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -248,6 +272,7 @@ public class EventSubscribe {
 	 */
 	public void  setNotifierPort(Long notifierPort) {
 		this.notifierPort = notifierPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -259,6 +284,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withNotifierPort(Long notifierPort) {
 		this.notifierPort = notifierPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -280,6 +306,7 @@ public class EventSubscribe {
 	 */
 	public void  setNotifierTransport(String notifierTransport) {
 		this.notifierTransport = notifierTransport;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -291,6 +318,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withNotifierTransport(String notifierTransport) {
 		this.notifierTransport = notifierTransport;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -312,6 +340,7 @@ public class EventSubscribe {
 	 */
 	public void  setExpireTime(Long expireTime) {
 		this.expireTime = expireTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -323,6 +352,7 @@ public class EventSubscribe {
 	 */
 	public EventSubscribe withExpireTime(Long expireTime) {
 		this.expireTime = expireTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table of Fully Qualified Domain Names for this {{object|#}} instance in order to connect to the SIP server as described in {{bibref|RFC2782}}.
@@ -113,6 +115,16 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	@CWMPParameter(access = "readWrite")
 	public IPAddress ipaddresses;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public FQDNServer() {
 	}
 
@@ -135,6 +147,7 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -146,6 +159,7 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public FQDNServer withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -167,6 +181,8 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -178,6 +194,8 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public FQDNServer withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -199,6 +217,7 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +229,7 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public FQDNServer withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -231,6 +251,8 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public void  setDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -242,6 +264,8 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public FQDNServer withDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -267,6 +291,7 @@ Larger weights SHOULD be given a proportionately higher probability of being sel
 	 */
 	public void  setWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -280,6 +305,7 @@ Larger weights SHOULD be given a proportionately higher probability of being sel
 	 */
 	public FQDNServer withWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -305,6 +331,7 @@ target hosts with the same priority SHOULD be tried in an order defined by the w
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -318,6 +345,7 @@ target hosts with the same priority SHOULD be tried in an order defined by the w
 	 */
 	public FQDNServer withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -339,6 +367,7 @@ target hosts with the same priority SHOULD be tried in an order defined by the w
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -350,6 +379,7 @@ target hosts with the same priority SHOULD be tried in an order defined by the w
 	 */
 	public FQDNServer withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -375,6 +405,7 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public void  setIpaddresses(IPAddress ipaddresses) {
 		this.ipaddresses = ipaddresses;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -388,6 +419,7 @@ The order in which the addresses appear in the list MAY imply priority.  This pa
 	 */
 	public FQDNServer withIpaddresses(IPAddress ipaddresses) {
 		this.ipaddresses = ipaddresses;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
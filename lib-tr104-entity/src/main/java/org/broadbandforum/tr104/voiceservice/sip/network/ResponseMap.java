@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table specifies the tone and message to be provided to the user for a particular SIP response received (normally 4xx and 5xx).
@@ -90,6 +92,16 @@ This parameter is applicable only for VoIP devices capable of text display.
 	@Size(max = 256)
 	public String tone;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ResponseMap() {
 	}
 
@@ -112,6 +124,8 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -123,6 +137,8 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public ResponseMap withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -144,6 +160,8 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public void  setSipResponseNumber(Long sipResponseNumber) {
 		this.sipResponseNumber = sipResponseNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -155,6 +173,8 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public ResponseMap withSipResponseNumber(Long sipResponseNumber) {
 		this.sipResponseNumber = sipResponseNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -176,6 +196,7 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -187,6 +208,7 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public ResponseMap withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -216,6 +238,7 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public void  setTextMessage(String textMessage) {
 		this.textMessage = textMessage;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +254,7 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public ResponseMap withTextMessage(String textMessage) {
 		this.textMessage = textMessage;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -260,6 +284,7 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public void  setTone(String tone) {
 		this.tone = tone;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -275,6 +300,7 @@ This parameter is applicable only for VoIP devices capable of text display.
 	 */
 	public ResponseMap withTone(String tone) {
 		this.tone = tone;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
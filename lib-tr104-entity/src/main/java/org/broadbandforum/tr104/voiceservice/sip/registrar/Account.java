@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.sip.registrar;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.sip.registrar.account.Contact;
 
 	/**
@@ -171,6 +174,16 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	@CWMPParameter(access = "readWrite")
 	public Collection<Contact> contacts;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Account() {
 	}
 
@@ -197,6 +210,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public void  setEnable(String enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -210,6 +224,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public Account withEnable(String enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -231,6 +246,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public void  setQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -242,6 +258,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public Account withQuiescentMode(Boolean quiescentMode) {
 		this.quiescentMode = quiescentMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -263,6 +280,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -274,6 +292,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public Account withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -295,6 +314,8 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -306,6 +327,8 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public Account withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -327,6 +350,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -338,6 +362,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public Account withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -359,6 +384,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public void  setCallStatus(String callStatus) {
 		this.callStatus = callStatus;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -370,6 +396,7 @@ In the {{enum|Quiescent}} state, in-progress sessions remain intact, but no new
 	 */
 	public Account withCallStatus(String callStatus) {
 		this.callStatus = callStatus;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -395,6 +422,7 @@ This parameter can only be modified if {{param|Origin}} is Static.
 	 */
 	public void  setAuthUserName(String authUserName) {
 		this.authUserName = authUserName;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -408,6 +436,7 @@ This parameter can only be modified if {{param|Origin}} is Static.
 	 */
 	public Account withAuthUserName(String authUserName) {
 		this.authUserName = authUserName;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -433,6 +462,7 @@ This parameter can only be modified if {{param|Origin}} is Static.
 	 */
 	public void  setAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -446,6 +476,7 @@ This parameter can only be modified if {{param|Origin}} is Static.
 	 */
 	public Account withAuthPassword(String authPassword) {
 		this.authPassword = authPassword;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -467,6 +498,7 @@ This parameter can only be modified if {{param|Origin}} is Static.
 	 */
 	public void  setRegistrationStatus(String registrationStatus) {
 		this.registrationStatus = registrationStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -478,6 +510,7 @@ This parameter can only be modified if {{param|Origin}} is Static.
 	 */
 	public Account withRegistrationStatus(String registrationStatus) {
 		this.registrationStatus = registrationStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -503,6 +536,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -516,6 +551,8 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Account withUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -541,6 +578,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -554,6 +592,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Account withDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -570,6 +609,19 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 		return codecList;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+The CPE SHOULD use the first enabled item in the list among those supported by the remote endpoint and consistent with the available bandwidth.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCodecList() {
+		return codecList == null ? Collections.emptyList() : codecList;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -580,6 +632,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setCodecList(Collection<String> codecList) {
 		this.codecList = codecList;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -593,6 +646,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Account withCodecList(String string) {
 		getCodecList().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -618,6 +672,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public void  setVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -631,6 +686,7 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 */
 	public Account withVoiPProfile(String voiPProfile) {
 		this.voiPProfile = voiPProfile;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -640,10 +696,20 @@ The CPE SHOULD use the first enabled item in the list among those supported by t
 	 * @return the value
 	 */
 	public Collection<Contact> getContacts() {
-		if (this.contacts == null){ this.contacts=new ArrayList<>();}
+		if (!(this.contacts instanceof InstanceTable)){ this.contacts=InstanceTable.of(this.contacts);}
 		return contacts;
 	}
 
+	/**
+	 * Get active registrations for this SIP account.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Contact> viewContacts() {
+		return contacts == null ? Collections.emptyList() : contacts;
+	}
+
 	/**
 	 * Set active registrations for this SIP account.
 	 *
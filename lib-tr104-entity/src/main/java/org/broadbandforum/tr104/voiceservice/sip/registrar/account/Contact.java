@@ -22,11 +22,15 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Active registrations for this SIP account.
@@ -109,6 +113,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ExpireTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime expireTime;
 	/**
 	 * This parameter defines the User-Agent header that will be used by the SIP messages send by this user agent. Implementers SHOULD make the User-Agent header field a configurable option.
@@ -120,6 +125,16 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	@Size(max = 64)
 	public String userAgent;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Contact() {
 	}
 
@@ -142,6 +157,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -153,6 +169,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -174,6 +191,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -185,6 +203,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -206,6 +225,8 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -217,6 +238,8 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -238,6 +261,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -249,6 +273,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -274,6 +299,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -287,6 +313,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Contact withIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -312,6 +339,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +353,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Contact withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -350,6 +379,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public void  setContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -363,6 +393,7 @@ This parameter can only be modified if {{param|Origin}} is {{enum|Static|Origin}
 	 */
 	public Contact withContactURI(String contactURI) {
 		this.contactURI = contactURI;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -388,6 +419,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setExpireTime(LocalDateTime expireTime) {
 		this.expireTime = expireTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -401,6 +433,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withExpireTime(LocalDateTime expireTime) {
 		this.expireTime = expireTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -422,6 +455,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public void  setUserAgent(String userAgent) {
 		this.userAgent = userAgent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -433,6 +467,7 @@ If this registration never expires, this parameter SHOULD be set to the Unknown
 	 */
 	public Contact withUserAgent(String userAgent) {
 		this.userAgent = userAgent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.terminal.audio.VoiceProcessing;
 
 	/**
@@ -61,6 +63,16 @@ public class Audio {
 	@XmlElement(name = "VoiceProcessing")
 	public VoiceProcessing voiceProcessing;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Audio() {
 	}
 
@@ -83,6 +95,8 @@ public class Audio {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -94,6 +108,8 @@ public class Audio {
 	 */
 	public Audio withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -115,6 +131,7 @@ public class Audio {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -126,6 +143,7 @@ public class Audio {
 	 */
 	public Audio withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
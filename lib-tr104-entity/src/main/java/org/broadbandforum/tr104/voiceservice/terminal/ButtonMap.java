@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.terminal;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.terminal.buttonmap.Button;
 
 	/**
@@ -58,10 +59,20 @@ public class ButtonMap {
 	 * @return the value
 	 */
 	public Collection<Button> getButtons() {
-		if (this.buttons == null){ this.buttons=new ArrayList<>();}
+		if (!(this.buttons instanceof InstanceTable)){ this.buttons=InstanceTable.of(this.buttons);}
 		return buttons;
 	}
 
+	/**
+	 * Read the each entry in this table specifies the purpose of each programmable CPE button / function key and whether the user has permission to reprogram the button.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Button> viewButtons() {
+		return buttons == null ? Collections.emptyList() : buttons;
+	}
+
 	/**
 	 * Set the each entry in this table specifies the purpose of each programmable CPE button / function key and whether the user has permission to reprogram the button.
 	 *
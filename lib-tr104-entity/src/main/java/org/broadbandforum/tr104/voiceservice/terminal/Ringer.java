@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.terminal;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.terminal.ringer.Description;
 import org.broadbandforum.tr104.voiceservice.terminal.ringer.Pattern;
 
@@ -72,10 +73,22 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 * @return the value
 	 */
 	public Collection<Description> getDescriptions() {
-		if (this.descriptions == null){ this.descriptions=new ArrayList<>();}
+		if (!(this.descriptions instanceof InstanceTable)){ this.descriptions=InstanceTable.of(this.descriptions);}
 		return descriptions;
 	}
 
+	/**
+	 * Read the each entry in this table defines the contents of an individual ring specification.
+
+The defaults given for this object apply only to explicit creation of an instance of this object and not to automatic creation of instances of this object due to creation of a parent object.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Description> viewDescriptions() {
+		return descriptions == null ? Collections.emptyList() : descriptions;
+	}
+
 	/**
 	 * Set the each entry in this table defines the contents of an individual ring specification.
 
@@ -110,10 +123,24 @@ The defaults given for this object apply only to explicit creation of an instanc
 	 * @return the value
 	 */
 	public Collection<Pattern> getPatterns() {
-		if (this.patterns == null){ this.patterns=new ArrayList<>();}
+		if (!(this.patterns instanceof InstanceTable)){ this.patterns=InstanceTable.of(this.patterns);}
 		return patterns;
 	}
 
+	/**
+	 * Read the each entry in the table defines a single phase in an overall ring pattern.  Each phase identifies the entry that corresponds to the next phase.
+
+Each entry in the table refers to the entry that corresponds to the next phase of the pattern.  The table MAY be set up such that entries form loops, or MAY end after a finite sequence.
+
+The defaults given for this object apply only to explicit creation of an instance of this object and not to automatic creation of instances of this object due to creation of a parent object.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Pattern> viewPatterns() {
+		return patterns == null ? Collections.emptyList() : patterns;
+	}
+
 	/**
 	 * Set the each entry in the table defines a single phase in an overall ring pattern.  Each phase identifies the entry that corresponds to the next phase.
 
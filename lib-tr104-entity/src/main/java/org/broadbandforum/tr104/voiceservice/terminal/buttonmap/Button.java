@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table specifies the purpose of each programmable CPE button / function key and whether the user has permission to reprogram the button.
@@ -106,6 +108,16 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	@CWMPParameter(access = "readWrite")
 	public Boolean userAccess;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Button() {
 	}
 
@@ -128,6 +140,8 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -139,6 +153,8 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public Button withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -160,6 +176,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public void  setButtonName(String buttonName) {
 		this.buttonName = buttonName;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -171,6 +188,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public Button withButtonName(String buttonName) {
 		this.buttonName = buttonName;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -204,6 +222,7 @@ If this parameter is specified (not {{empty}}) then {{param|QuickDialNumber}} SH
 	 */
 	public void  setFacilityAction(String facilityAction) {
 		this.facilityAction = facilityAction;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -221,6 +240,7 @@ If this parameter is specified (not {{empty}}) then {{param|QuickDialNumber}} SH
 	 */
 	public Button withFacilityAction(String facilityAction) {
 		this.facilityAction = facilityAction;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -242,6 +262,7 @@ If this parameter is specified (not {{empty}}) then {{param|QuickDialNumber}} SH
 	 */
 	public void  setFacilityActionArgument(String facilityActionArgument) {
 		this.facilityActionArgument = facilityActionArgument;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -253,6 +274,7 @@ If this parameter is specified (not {{empty}}) then {{param|QuickDialNumber}} SH
 	 */
 	public Button withFacilityActionArgument(String facilityActionArgument) {
 		this.facilityActionArgument = facilityActionArgument;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -278,6 +300,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public void  setQuickDialNumber(String quickDialNumber) {
 		this.quickDialNumber = quickDialNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -291,6 +314,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public Button withQuickDialNumber(String quickDialNumber) {
 		this.quickDialNumber = quickDialNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -312,6 +336,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public void  setButtonMessage(String buttonMessage) {
 		this.buttonMessage = buttonMessage;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -323,6 +348,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public Button withButtonMessage(String buttonMessage) {
 		this.buttonMessage = buttonMessage;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -344,6 +370,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public void  setUserAccess(Boolean userAccess) {
 		this.userAccess = userAccess;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -355,6 +382,7 @@ If this parameter is specified (not {{empty}}) then {{param|FacilityAction}} SHO
 	 */
 	public Button withUserAccess(Boolean userAccess) {
 		this.userAccess = userAccess;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table defines the contents of an individual ring specification.
@@ -89,6 +91,16 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	@Size(max = 256)
 	public String ringFile;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Description() {
 	}
 
@@ -111,6 +123,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public void  setRingEnable(Boolean ringEnable) {
 		this.ringEnable = ringEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +135,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public Description withRingEnable(Boolean ringEnable) {
 		this.ringEnable = ringEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +157,8 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -154,6 +170,8 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public Description withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -175,6 +193,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public void  setRingName(String ringName) {
 		this.ringName = ringName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +205,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public Description withRingName(String ringName) {
 		this.ringName = ringName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +231,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public void  setRingPattern(String ringPattern) {
 		this.ringPattern = ringPattern;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -224,6 +245,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public Description withRingPattern(String ringPattern) {
 		this.ringPattern = ringPattern;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -253,6 +275,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public void  setRingFile(String ringFile) {
 		this.ringFile = ringFile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -268,6 +291,7 @@ If the ring is specified by a ring pattern instead of a ring file, this paramete
 	 */
 	public Description withRingFile(String ringFile) {
 		this.ringFile = ringFile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
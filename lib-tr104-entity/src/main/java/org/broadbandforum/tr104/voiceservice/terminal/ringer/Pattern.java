@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in the table defines a single phase in an overall ring pattern.  Each phase identifies the entry that corresponds to the next phase.
@@ -89,6 +91,16 @@ A value of zero indicates an unlimited duration.
 	@Size(max = 256)
 	public String nextPattern;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Pattern() {
 	}
 
@@ -111,6 +123,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +135,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +157,8 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -154,6 +170,8 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -175,6 +193,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setRingerOn(Boolean ringerOn) {
 		this.ringerOn = ringerOn;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +205,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withRingerOn(Boolean ringerOn) {
 		this.ringerOn = ringerOn;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +231,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -224,6 +245,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -253,6 +275,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setNextPattern(String nextPattern) {
 		this.nextPattern = nextPattern;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -268,6 +291,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withNextPattern(String nextPattern) {
 		this.nextPattern = nextPattern;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
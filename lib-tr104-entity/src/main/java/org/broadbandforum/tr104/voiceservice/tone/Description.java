@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table defines the contents of an individual tone.
@@ -109,6 +111,16 @@ This parameter is applicable only for VoIP devices capable text display.
 	@Size(max = 64)
 	public String toneText;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Description() {
 	}
 
@@ -131,6 +143,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public void  setToneEnable(Boolean toneEnable) {
 		this.toneEnable = toneEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -142,6 +155,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public Description withToneEnable(Boolean toneEnable) {
 		this.toneEnable = toneEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,8 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -174,6 +190,8 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public Description withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -195,6 +213,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public void  setToneName(String toneName) {
 		this.toneName = toneName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -206,6 +225,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public Description withToneName(String toneName) {
 		this.toneName = toneName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -231,6 +251,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public void  setTonePattern(String tonePattern) {
 		this.tonePattern = tonePattern;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -244,6 +265,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public Description withTonePattern(String tonePattern) {
 		this.tonePattern = tonePattern;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -273,6 +295,7 @@ If the tone is specified by a tone pattern instead of a tone file, this paramete
 	 */
 	public void  setToneFile(String toneFile) {
 		this.toneFile = toneFile;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -288,6 +311,7 @@ If the tone is specified by a tone pattern instead of a tone file, this paramete
 	 */
 	public Description withToneFile(String toneFile) {
 		this.toneFile = toneFile;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -309,6 +333,7 @@ If the tone is specified by a tone pattern instead of a tone file, this paramete
 	 */
 	public void  setToneRepetitions(Long toneRepetitions) {
 		this.toneRepetitions = toneRepetitions;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -320,6 +345,7 @@ If the tone is specified by a tone pattern instead of a tone file, this paramete
 	 */
 	public Description withToneRepetitions(Long toneRepetitions) {
 		this.toneRepetitions = toneRepetitions;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -345,6 +371,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public void  setToneText(String toneText) {
 		this.toneText = toneText;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -358,6 +385,7 @@ This parameter is applicable only for VoIP devices capable text display.
 	 */
 	public Description withToneText(String toneText) {
 		this.toneText = toneText;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
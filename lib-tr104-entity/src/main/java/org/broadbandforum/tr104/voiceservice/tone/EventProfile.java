@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr104.voiceservice.tone;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr104.voiceservice.tone.eventprofile.Event;
 
 	/**
@@ -56,6 +58,16 @@ public class EventProfile {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Event> events;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public EventProfile() {
 	}
 
@@ -78,6 +90,8 @@ public class EventProfile {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -89,6 +103,8 @@ public class EventProfile {
 	 */
 	public EventProfile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -98,10 +114,20 @@ public class EventProfile {
 	 * @return the value
 	 */
 	public Collection<Event> getEvents() {
-		if (this.events == null){ this.events=new ArrayList<>();}
+		if (!(this.events instanceof InstanceTable)){ this.events=InstanceTable.of(this.events);}
 		return events;
 	}
 
+	/**
+	 * Read the table of events for which a tone is defined. The table is pre-populated with the list of events for which the CPE supports definition of tones.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Event> viewEvents() {
+		return events == null ? Collections.emptyList() : events;
+	}
+
 	/**
 	 * Set the table of events for which a tone is defined. The table is pre-populated with the list of events for which the CPE supports definition of tones.
 	 *
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in the table defines a single phase in an overall tone pattern.  Each phase identifies the entry that corresponds to the next phase.
@@ -184,6 +186,16 @@ A value of zero indicates an unlimited duration.
 	@Size(max = 256)
 	public String nextPattern;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Pattern() {
 	}
 
@@ -206,6 +218,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -217,6 +230,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -238,6 +252,8 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -249,6 +265,8 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -270,6 +288,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setToneOn(Boolean toneOn) {
 		this.toneOn = toneOn;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -281,6 +300,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withToneOn(Boolean toneOn) {
 		this.toneOn = toneOn;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -306,6 +326,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setFrequency1(Long frequency1) {
 		this.frequency1 = frequency1;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -319,6 +340,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withFrequency1(Long frequency1) {
 		this.frequency1 = frequency1;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -340,6 +362,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setPower1(Integer power1) {
 		this.power1 = power1;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -351,6 +374,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withPower1(Integer power1) {
 		this.power1 = power1;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -376,6 +400,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setFrequency2(Long frequency2) {
 		this.frequency2 = frequency2;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -389,6 +414,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withFrequency2(Long frequency2) {
 		this.frequency2 = frequency2;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -410,6 +436,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setPower2(Integer power2) {
 		this.power2 = power2;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -421,6 +448,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withPower2(Integer power2) {
 		this.power2 = power2;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -446,6 +474,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setFrequency3(Long frequency3) {
 		this.frequency3 = frequency3;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -459,6 +488,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withFrequency3(Long frequency3) {
 		this.frequency3 = frequency3;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -480,6 +510,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setPower3(Integer power3) {
 		this.power3 = power3;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -491,6 +522,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withPower3(Integer power3) {
 		this.power3 = power3;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -516,6 +548,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setFrequency4(Long frequency4) {
 		this.frequency4 = frequency4;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -529,6 +562,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withFrequency4(Long frequency4) {
 		this.frequency4 = frequency4;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -550,6 +584,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setPower4(Integer power4) {
 		this.power4 = power4;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -561,6 +596,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withPower4(Integer power4) {
 		this.power4 = power4;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -586,6 +622,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setModulationFrequency(Long modulationFrequency) {
 		this.modulationFrequency = modulationFrequency;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -599,6 +636,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withModulationFrequency(Long modulationFrequency) {
 		this.modulationFrequency = modulationFrequency;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -620,6 +658,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public void  setModulationPower(Integer modulationPower) {
 		this.modulationPower = modulationPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -631,6 +670,7 @@ A value of zero indicates this tone component is not used.
 	 */
 	public Pattern withModulationPower(Integer modulationPower) {
 		this.modulationPower = modulationPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -656,6 +696,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -669,6 +710,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -698,6 +740,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public void  setNextPattern(String nextPattern) {
 		this.nextPattern = nextPattern;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -713,6 +756,7 @@ A value of zero indicates an unlimited duration.
 	 */
 	public Pattern withNextPattern(String nextPattern) {
 		this.nextPattern = nextPattern;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table of events for which a tone is defined. The table is pre-populated with the list of events for which the CPE supports definition of tones.
@@ -69,6 +71,16 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	@Size(max = 256)
 	public String tone;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Event() {
 	}
 
@@ -91,6 +103,8 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -102,6 +116,8 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public Event withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -127,6 +143,7 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public void  setFunction(String function) {
 		this.function = function;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -140,6 +157,7 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public Event withFunction(String function) {
 		this.function = function;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -169,6 +187,7 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public void  setTone(String tone) {
 		this.tone = tone;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -184,6 +203,7 @@ The parameter MAY instead indicate a vendor-specific event name, which MUST use
 	 */
 	public Event withTone(String tone) {
 		this.tone = tone;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
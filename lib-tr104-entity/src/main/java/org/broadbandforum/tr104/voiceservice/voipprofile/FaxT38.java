@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * T.38 Fax information for devices that support T.38 relay.
@@ -71,6 +72,11 @@ public class FaxT38 {
 	@CWMPParameter(access = "readWrite")
 	public String tcfMethod;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FaxT38() {
 	}
 
@@ -93,6 +99,7 @@ public class FaxT38 {
 	 */
 	public void  setMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -104,6 +111,7 @@ public class FaxT38 {
 	 */
 	public FaxT38 withMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -125,6 +133,7 @@ public class FaxT38 {
 	 */
 	public void  setHighSpeedRedundancy(Long highSpeedRedundancy) {
 		this.highSpeedRedundancy = highSpeedRedundancy;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -136,6 +145,7 @@ public class FaxT38 {
 	 */
 	public FaxT38 withHighSpeedRedundancy(Long highSpeedRedundancy) {
 		this.highSpeedRedundancy = highSpeedRedundancy;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -157,6 +167,7 @@ public class FaxT38 {
 	 */
 	public void  setLowSpeedRedundancy(Long lowSpeedRedundancy) {
 		this.lowSpeedRedundancy = lowSpeedRedundancy;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -168,6 +179,7 @@ public class FaxT38 {
 	 */
 	public FaxT38 withLowSpeedRedundancy(Long lowSpeedRedundancy) {
 		this.lowSpeedRedundancy = lowSpeedRedundancy;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -189,6 +201,7 @@ public class FaxT38 {
 	 */
 	public void  setTcfMethod(String tcfMethod) {
 		this.tcfMethod = tcfMethod;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -200,6 +213,7 @@ public class FaxT38 {
 	 */
 	public FaxT38 withTcfMethod(String tcfMethod) {
 		this.tcfMethod = tcfMethod;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
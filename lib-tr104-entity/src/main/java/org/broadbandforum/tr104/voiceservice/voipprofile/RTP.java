@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr104.voiceservice.voipprofile.rtp.RTCP;
 import org.broadbandforum.tr104.voiceservice.voipprofile.rtp.Redundancy;
 import org.broadbandforum.tr104.voiceservice.voipprofile.rtp.SRTP;
@@ -155,6 +156,11 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	@XmlElement(name = "Redundancy")
 	public Redundancy redundancy;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTP() {
 	}
 
@@ -177,6 +183,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setLocalPortMin(Long localPortMin) {
 		this.localPortMin = localPortMin;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -188,6 +195,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withLocalPortMin(Long localPortMin) {
 		this.localPortMin = localPortMin;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -209,6 +217,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setLocalPortMax(Long localPortMax) {
 		this.localPortMax = localPortMax;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -220,6 +229,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withLocalPortMax(Long localPortMax) {
 		this.localPortMax = localPortMax;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -241,6 +251,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setGmin(Long gmin) {
 		this.gmin = gmin;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -252,6 +263,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withGmin(Long gmin) {
 		this.gmin = gmin;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -273,6 +285,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -284,6 +297,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -309,6 +323,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} is greater than zero, then
 	 */
 	public void  setVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -322,6 +337,7 @@ If either {{param}} or {{param|EthernetPriorityMark}} is greater than zero, then
 	 */
 	public RTP withVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -347,6 +363,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -360,6 +377,7 @@ If either {{param|VLANIDMark}} or {{param}} is greater than zero, then the outgo
 	 */
 	public RTP withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -385,6 +403,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setTelephoneEventPayloadType(Long telephoneEventPayloadType) {
 		this.telephoneEventPayloadType = telephoneEventPayloadType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -398,6 +417,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withTelephoneEventPayloadType(Long telephoneEventPayloadType) {
 		this.telephoneEventPayloadType = telephoneEventPayloadType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -419,6 +439,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setJitterBufferType(String jitterBufferType) {
 		this.jitterBufferType = jitterBufferType;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -430,6 +451,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withJitterBufferType(String jitterBufferType) {
 		this.jitterBufferType = jitterBufferType;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -451,6 +473,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setJitterBufferMaxSize(Long jitterBufferMaxSize) {
 		this.jitterBufferMaxSize = jitterBufferMaxSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -462,6 +485,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withJitterBufferMaxSize(Long jitterBufferMaxSize) {
 		this.jitterBufferMaxSize = jitterBufferMaxSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -483,6 +507,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setJitterBufferMinSize(Long jitterBufferMinSize) {
 		this.jitterBufferMinSize = jitterBufferMinSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -494,6 +519,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withJitterBufferMinSize(Long jitterBufferMinSize) {
 		this.jitterBufferMinSize = jitterBufferMinSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -515,6 +541,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public void  setJitterBufferActualSize(Long jitterBufferActualSize) {
 		this.jitterBufferActualSize = jitterBufferActualSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -526,6 +553,7 @@ This parameter indicates the payload type to be used for DTMF events if transmis
 	 */
 	public RTP withJitterBufferActualSize(Long jitterBufferActualSize) {
 		this.jitterBufferActualSize = jitterBufferActualSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * VoIP profile parameters related to RTCP.
@@ -62,6 +63,11 @@ public class RTCP {
 	@Size(max = 64)
 	public String localCName;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTCP() {
 	}
 
@@ -84,6 +90,7 @@ public class RTCP {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ public class RTCP {
 	 */
 	public RTCP withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class RTCP {
 	 */
 	public void  setTxrepeatInterval(Long txrepeatInterval) {
 		this.txrepeatInterval = txrepeatInterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ public class RTCP {
 	 */
 	public RTCP withTxrepeatInterval(Long txrepeatInterval) {
 		this.txrepeatInterval = txrepeatInterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class RTCP {
 	 */
 	public void  setLocalCName(String localCName) {
 		this.localCName = localCName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -159,6 +170,7 @@ public class RTCP {
 	 */
 	public RTCP withLocalCName(String localCName) {
 		this.localCName = localCName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
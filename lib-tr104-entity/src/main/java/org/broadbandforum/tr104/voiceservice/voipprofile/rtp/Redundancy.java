@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * VoIP profile parameters for RTP payload redundancy as defined by {{bibref|RFC2198}}.
@@ -125,6 +126,11 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	@CWMPParameter(access = "readWrite")
 	public Long maxSessionsUsingRedundancy = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Redundancy() {
 	}
 
@@ -147,6 +153,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -158,6 +165,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public Redundancy withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -179,6 +187,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public void  setPayloadType(Long payloadType) {
 		this.payloadType = payloadType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -190,6 +199,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public Redundancy withPayloadType(Long payloadType) {
 		this.payloadType = payloadType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -211,6 +221,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public void  setBlockPayloadType(Long blockPayloadType) {
 		this.blockPayloadType = blockPayloadType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -222,6 +233,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public Redundancy withBlockPayloadType(Long blockPayloadType) {
 		this.blockPayloadType = blockPayloadType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -255,6 +267,7 @@ If {{param|ModemRedundancy}} is present, then {{param}} applies only to fax tran
 	 */
 	public void  setFaxAndModemRedundancy(Integer faxAndModemRedundancy) {
 		this.faxAndModemRedundancy = faxAndModemRedundancy;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -272,6 +285,7 @@ If {{param|ModemRedundancy}} is present, then {{param}} applies only to fax tran
 	 */
 	public Redundancy withFaxAndModemRedundancy(Integer faxAndModemRedundancy) {
 		this.faxAndModemRedundancy = faxAndModemRedundancy;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -301,6 +315,7 @@ A value of -1 indicates {{bibref|RFC2198}} is not to be used for modem pass-thro
 	 */
 	public void  setModemRedundancy(Integer modemRedundancy) {
 		this.modemRedundancy = modemRedundancy;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -316,6 +331,7 @@ A value of -1 indicates {{bibref|RFC2198}} is not to be used for modem pass-thro
 	 */
 	public Redundancy withModemRedundancy(Integer modemRedundancy) {
 		this.modemRedundancy = modemRedundancy;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -345,6 +361,7 @@ A value of -1 indicates {{bibref|RFC2198}} is not to be used for DTMF.
 	 */
 	public void  setDtmFRedundancy(Integer dtmFRedundancy) {
 		this.dtmFRedundancy = dtmFRedundancy;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -360,6 +377,7 @@ A value of -1 indicates {{bibref|RFC2198}} is not to be used for DTMF.
 	 */
 	public Redundancy withDtmFRedundancy(Integer dtmFRedundancy) {
 		this.dtmFRedundancy = dtmFRedundancy;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -389,6 +407,7 @@ A value of -1 indicates {{bibref|RFC2198}} is not to be used for voice.
 	 */
 	public void  setVoiceRedundancy(Integer voiceRedundancy) {
 		this.voiceRedundancy = voiceRedundancy;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -404,6 +423,7 @@ A value of -1 indicates {{bibref|RFC2198}} is not to be used for voice.
 	 */
 	public Redundancy withVoiceRedundancy(Integer voiceRedundancy) {
 		this.voiceRedundancy = voiceRedundancy;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -429,6 +449,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public void  setMaxSessionsUsingRedundancy(Long maxSessionsUsingRedundancy) {
 		this.maxSessionsUsingRedundancy = maxSessionsUsingRedundancy;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -442,6 +463,7 @@ A value of zero indicates no explicit limit on the number of sessions using redu
 	 */
 	public Redundancy withMaxSessionsUsingRedundancy(Long maxSessionsUsingRedundancy) {
 		this.maxSessionsUsingRedundancy = maxSessionsUsingRedundancy;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr104.voiceservice.voipprofile.rtp;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * VoIP profile parameters for secure voice transmission via SRTP.
@@ -67,6 +69,11 @@ Enumerated value must be one of [Null, Static, SDP, IKE]
 	@CWMPParameter(access = "readWrite")
 	public Long encryptionKeySizes;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SRTP() {
 	}
 
@@ -93,6 +100,7 @@ If RTCP is enabled, a {{true}} value of this parameter also implies the use of S
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -106,6 +114,7 @@ If RTCP is enabled, a {{true}} value of this parameter also implies the use of S
 	 */
 	public SRTP withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,6 +131,19 @@ Enumerated value must be one of [Null, Static, SDP, IKE]
 		return keyingMethods;
 	}
 
+	/**
+	 * Read the {{list|available keying methods}} 
+
+Enumerated value must be one of [Null, Static, SDP, IKE]
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewKeyingMethods() {
+		return keyingMethods == null ? Collections.emptyList() : keyingMethods;
+	}
+
 	/**
 	 * Set the {{list|available keying methods}} 
 
@@ -132,6 +154,7 @@ Enumerated value must be one of [Null, Static, SDP, IKE]
 	 */
 	public void  setKeyingMethods(Collection<String> keyingMethods) {
 		this.keyingMethods = keyingMethods;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -145,6 +168,7 @@ Enumerated value must be one of [Null, Static, SDP, IKE]
 	 */
 	public SRTP withKeyingMethods(String string) {
 		getKeyingMethods().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -166,6 +190,7 @@ Enumerated value must be one of [Null, Static, SDP, IKE]
 	 */
 	public void  setEncryptionKeySizes(Long encryptionKeySizes) {
 		this.encryptionKeySizes = encryptionKeySizes;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -177,6 +202,7 @@ Enumerated value must be one of [Null, Static, SDP, IKE]
 	 */
 	public SRTP withEncryptionKeySizes(Long encryptionKeySizes) {
 		this.encryptionKeySizes = encryptionKeySizes;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
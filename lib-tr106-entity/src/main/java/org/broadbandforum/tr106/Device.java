@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr106.device.Capabilities;
 import org.broadbandforum.tr106.device.Config;
 import org.broadbandforum.tr106.device.DeviceInfo;
@@ -125,6 +126,11 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	@XmlElement(name = "UDPEchoConfig")
 	public UDPEchoConfig udpEchoConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Device() {
 	}
 
@@ -147,6 +153,7 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	 */
 	public void  setDeviceSummary(String deviceSummary) {
 		this.deviceSummary = deviceSummary;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -158,6 +165,7 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	 */
 	public Device withDeviceSummary(String deviceSummary) {
 		this.deviceSummary = deviceSummary;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains general configuration parameters.
@@ -56,6 +57,11 @@ An alternative to this parameter, e.g. when the configuration file is larger tha
 	@Size(max = -32768)
 	public String configFile;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Config() {
 	}
 
@@ -78,6 +84,7 @@ An alternative to this parameter, e.g. when the configuration file is larger tha
 	 */
 	public void  setPersistentData(String persistentData) {
 		this.persistentData = persistentData;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -89,6 +96,7 @@ An alternative to this parameter, e.g. when the configuration file is larger tha
 	 */
 	public Config withPersistentData(String persistentData) {
 		this.persistentData = persistentData;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -114,6 +122,7 @@ An alternative to this parameter, e.g. when the configuration file is larger tha
 	 */
 	public void  setConfigFile(String configFile) {
 		this.configFile = configFile;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ An alternative to this parameter, e.g. when the configuration file is larger tha
 	 */
 	public Config withConfigFile(String configFile) {
 		this.configFile = configFile;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
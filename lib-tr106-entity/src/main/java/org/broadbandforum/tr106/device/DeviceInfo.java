@@ -18,6 +18,7 @@ package org.broadbandforum.tr106.device;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +26,11 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains general device information.
@@ -174,6 +178,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 * @since 1.0
 	 */
 	@XmlElement(name = "FirstUseDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime firstUseDate;
 	/**
@@ -186,6 +191,11 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	@Size(max = -32768)
 	public String deviceLog;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DeviceInfo() {
 	}
 
@@ -208,6 +218,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -219,6 +230,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public DeviceInfo withManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -244,6 +256,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -257,6 +270,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public DeviceInfo withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -278,6 +292,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public void  setModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -289,6 +304,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public DeviceInfo withModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -310,6 +326,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -321,6 +338,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public DeviceInfo withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -346,6 +364,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -359,6 +378,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public DeviceInfo withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -384,6 +404,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -397,6 +418,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public DeviceInfo withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -418,6 +440,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public void  setHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -429,6 +452,7 @@ This value MUST remain fixed over the lifetime of the device, including across f
 	 */
 	public DeviceInfo withHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -454,6 +478,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -467,6 +492,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -481,6 +507,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return enabledOptions;
 	}
 
+	/**
+	 * Read the comma-separated list of the OptionName of each Option that is currently enabled in the CPE.  The OptionName of each is identical to the OptionName element of the OptionStruct described in {{bibref|TR-069a2}}.  Only those options are listed whose State indicates the option is enabled.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEnabledOptions() {
+		return enabledOptions == null ? Collections.emptyList() : enabledOptions;
+	}
+
 	/**
 	 * Set the comma-separated list of the OptionName of each Option that is currently enabled in the CPE.  The OptionName of each is identical to the OptionName element of the OptionStruct described in {{bibref|TR-069a2}}.  Only those options are listed whose State indicates the option is enabled.
 	 *
@@ -489,6 +526,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setEnabledOptions(Collection<String> enabledOptions) {
 		this.enabledOptions = enabledOptions;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -500,6 +538,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withEnabledOptions(String string) {
 		getEnabledOptions().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -514,6 +553,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return additionalHardwareVersion;
 	}
 
+	/**
+	 * Get a comma-separated list of any additional versions.  Represents any additional hardware version information the vendor might wish to supply.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalHardwareVersion() {
+		return additionalHardwareVersion == null ? Collections.emptyList() : additionalHardwareVersion;
+	}
+
 	/**
 	 * Set a comma-separated list of any additional versions.  Represents any additional hardware version information the vendor might wish to supply.
 	 *
@@ -522,6 +572,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setAdditionalHardwareVersion(Collection<String> additionalHardwareVersion) {
 		this.additionalHardwareVersion = additionalHardwareVersion;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -533,6 +584,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withAdditionalHardwareVersion(String string) {
 		getAdditionalHardwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -547,6 +599,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return additionalSoftwareVersion;
 	}
 
+	/**
+	 * Get a comma-separated list of any additional versions.  Represents any additional software version information the vendor might wish to supply.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalSoftwareVersion() {
+		return additionalSoftwareVersion == null ? Collections.emptyList() : additionalSoftwareVersion;
+	}
+
 	/**
 	 * Set a comma-separated list of any additional versions.  Represents any additional software version information the vendor might wish to supply.
 	 *
@@ -555,6 +618,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setAdditionalSoftwareVersion(Collection<String> additionalSoftwareVersion) {
 		this.additionalSoftwareVersion = additionalSoftwareVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -566,6 +630,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withAdditionalSoftwareVersion(String string) {
 		getAdditionalSoftwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -587,6 +652,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -598,6 +664,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -619,6 +686,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setDeviceStatus(String deviceStatus) {
 		this.deviceStatus = deviceStatus;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -630,6 +698,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withDeviceStatus(String deviceStatus) {
 		this.deviceStatus = deviceStatus;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -651,6 +720,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -662,6 +732,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -687,6 +758,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -700,6 +772,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public DeviceInfo withFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -721,6 +794,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setDeviceLog(String deviceLog) {
 		this.deviceLog = deviceLog;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -732,6 +806,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public DeviceInfo withDeviceLog(String deviceLog) {
 		this.deviceLog = deviceLog;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
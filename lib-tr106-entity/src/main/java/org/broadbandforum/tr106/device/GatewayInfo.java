@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains information associated with a connected Internet Gateway Device.
@@ -59,6 +60,11 @@ public class GatewayInfo {
 	@Size(max = 64)
 	public String serialNumber;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public GatewayInfo() {
 	}
 
@@ -81,6 +87,7 @@ public class GatewayInfo {
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ public class GatewayInfo {
 	 */
 	public GatewayInfo withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,6 +121,7 @@ public class GatewayInfo {
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -124,6 +133,7 @@ public class GatewayInfo {
 	 */
 	public GatewayInfo withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -145,6 +155,7 @@ public class GatewayInfo {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -156,6 +167,7 @@ public class GatewayInfo {
 	 */
 	public GatewayInfo withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr106.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,7 +28,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr106.device.lan.DHCPOption;
 import org.broadbandforum.tr106.device.lan.IPPingDiagnostics;
@@ -146,6 +149,11 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	@XmlElement(name = "TraceRouteDiagnostics")
 	public TraceRouteDiagnostics traceRouteDiagnostics;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LAN() {
 	}
 
@@ -172,6 +180,7 @@ The ability to modify this parameter is OPTIONAL.
 	 */
 	public void  setAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -185,6 +194,7 @@ The ability to modify this parameter is OPTIONAL.
 	 */
 	public LAN withAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -210,6 +220,7 @@ The ability to modify this parameter is OPTIONAL, and this parameter cannot be m
 	 */
 	public void  setIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -223,6 +234,7 @@ The ability to modify this parameter is OPTIONAL, and this parameter cannot be m
 	 */
 	public LAN withIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -248,6 +260,7 @@ The ability to modify this parameter is OPTIONAL, and this parameter cannot be m
 	 */
 	public void  setSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -261,6 +274,7 @@ The ability to modify this parameter is OPTIONAL, and this parameter cannot be m
 	 */
 	public LAN withSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -286,6 +300,7 @@ The ability to modify this parameter is OPTIONAL, and this parameter cannot be m
 	 */
 	public void  setDefaultGateway(String defaultGateway) {
 		this.defaultGateway = defaultGateway;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -299,6 +314,7 @@ The ability to modify this parameter is OPTIONAL, and this parameter cannot be m
 	 */
 	public LAN withDefaultGateway(String defaultGateway) {
 		this.defaultGateway = defaultGateway;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -317,6 +333,21 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 		return dnsServers;
 	}
 
+	/**
+	 * Read the comma-separated list of IP address of the DNS servers for this interface.
+
+The ability to modify this parameter is OPTIONAL, and this parameter cannot be modified if the {{param|AddressingType}} is {{enum|DHCP|AddressingType}}.
+
+If this parameter is modifiable, the device MAY ignore any DNS servers beyond the first two in the list.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDnsServers() {
+		return dnsServers == null ? Collections.emptyList() : dnsServers;
+	}
+
 	/**
 	 * Set the comma-separated list of IP address of the DNS servers for this interface.
 
@@ -329,6 +360,7 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	 */
 	public void  setDnsServers(Collection<String> dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -344,6 +376,7 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	 */
 	public LAN withDnsServers(String string) {
 		getDnsServers().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -365,6 +398,7 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -376,6 +410,7 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	 */
 	public LAN withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -405,6 +440,7 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	 */
 	public void  setMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -420,6 +456,7 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	 */
 	public LAN withMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -429,10 +466,20 @@ If this parameter is modifiable, the device MAY ignore any DNS servers beyond th
 	 * @return the value
 	 */
 	public Collection<DHCPOption> getDhcPOptions() {
-		if (this.dhcPOptions == null){ this.dhcPOptions=new ArrayList<>();}
+		if (!(this.dhcPOptions instanceof InstanceTable)){ this.dhcPOptions=InstanceTable.of(this.dhcPOptions);}
 		return dhcPOptions;
 	}
 
+	/**
+	 * Read the this object is for configuration of DHCP options.  Each instance of this object represents a DHCP option to be included by the DHCP client in client requests.  The DHCP client MAY include any other options not specified in this table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<DHCPOption> viewDhcPOptions() {
+		return dhcPOptions == null ? Collections.emptyList() : dhcPOptions;
+	}
+
 	/**
 	 * Set the this object is for configuration of DHCP options.  Each instance of this object represents a DHCP option to be included by the DHCP client in client requests.  The DHCP client MAY include any other options not specified in this table.
 	 *
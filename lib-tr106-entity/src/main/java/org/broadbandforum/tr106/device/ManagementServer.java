@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating to the CPE's association with an ACS.
@@ -110,6 +113,7 @@ If absolute time is not available to the CPE, its periodic Inform behavior MUST
 	 * @since 1.0
 	 */
 	@XmlElement(name = "PeriodicInformTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicInformTime;
 	/**
@@ -301,6 +305,11 @@ When {{param|STUNEnable}} is {{false}}, this value MUST be {{false}}.
 	@XmlElement(name = "NATDetected")
 	public Boolean natDetected;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ManagementServer() {
 	}
 
@@ -335,6 +344,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -352,6 +362,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -381,6 +392,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -396,6 +408,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -429,6 +442,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -446,6 +460,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -467,6 +482,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -478,6 +494,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -499,6 +516,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -510,6 +528,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -547,6 +566,7 @@ If absolute time is not available to the CPE, its periodic Inform behavior MUST
 	 */
 	public void  setPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -566,6 +586,7 @@ If absolute time is not available to the CPE, its periodic Inform behavior MUST
 	 */
 	public ManagementServer withPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -595,6 +616,7 @@ The CPE MUST only modify the value of {{param}} as a result of SetParameterValue
 	 */
 	public void  setParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -610,6 +632,7 @@ The CPE MUST only modify the value of {{param}} as a result of SetParameterValue
 	 */
 	public ManagementServer withParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -643,6 +666,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -660,6 +684,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -681,6 +706,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -692,6 +718,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -717,6 +744,7 @@ When read, this parameter returns {{empty}}, regardless of the actual value.
 	 */
 	public void  setConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -730,6 +758,7 @@ When read, this parameter returns {{empty}}, regardless of the actual value.
 	 */
 	public ManagementServer withConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -755,6 +784,7 @@ Note that an autonomous upgrade (reported via an "10 AUTONOMOUS TRANSFER COMPLET
 	 */
 	public void  setUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -768,6 +798,7 @@ Note that an autonomous upgrade (reported via an "10 AUTONOMOUS TRANSFER COMPLET
 	 */
 	public ManagementServer withUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -793,6 +824,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, from which the CPE can be
 	 */
 	public void  setKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -806,6 +838,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, from which the CPE can be
 	 */
 	public ManagementServer withKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -831,6 +864,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, to which a web-server asso
 	 */
 	public void  setDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -844,6 +878,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, to which a web-server asso
 	 */
 	public ManagementServer withDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -889,6 +924,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public void  setUdpConnectionRequestAddress(String udpConnectionRequestAddress) {
 		this.udpConnectionRequestAddress = udpConnectionRequestAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -912,6 +948,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public ManagementServer withUdpConnectionRequestAddress(String udpConnectionRequestAddress) {
 		this.udpConnectionRequestAddress = udpConnectionRequestAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -933,6 +970,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public void  setUdpConnectionRequestAddressNotificationLimit(Long udpConnectionRequestAddressNotificationLimit) {
 		this.udpConnectionRequestAddressNotificationLimit = udpConnectionRequestAddressNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -944,6 +982,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public ManagementServer withUdpConnectionRequestAddressNotificationLimit(Long udpConnectionRequestAddressNotificationLimit) {
 		this.udpConnectionRequestAddressNotificationLimit = udpConnectionRequestAddressNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -965,6 +1004,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public void  setStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -976,6 +1016,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public ManagementServer withStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1001,6 +1042,7 @@ If is {{empty}} and {{param|STUNEnable}} is {{true}}, the CPE MUST use the addre
 	 */
 	public void  setStuNServerAddress(String stuNServerAddress) {
 		this.stuNServerAddress = stuNServerAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1014,6 +1056,7 @@ If is {{empty}} and {{param|STUNEnable}} is {{true}}, the CPE MUST use the addre
 	 */
 	public ManagementServer withStuNServerAddress(String stuNServerAddress) {
 		this.stuNServerAddress = stuNServerAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1039,6 +1082,7 @@ By default, this SHOULD be the equal to the default STUN port, 3478.
 	 */
 	public void  setStuNServerPort(Long stuNServerPort) {
 		this.stuNServerPort = stuNServerPort;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1052,6 +1096,7 @@ By default, this SHOULD be the equal to the default STUN port, 3478.
 	 */
 	public ManagementServer withStuNServerPort(Long stuNServerPort) {
 		this.stuNServerPort = stuNServerPort;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1077,6 +1122,7 @@ If is {{empty}}, the CPE MUST NOT send STUN Binding Requests with message integr
 	 */
 	public void  setStuNUsername(String stuNUsername) {
 		this.stuNUsername = stuNUsername;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1090,6 +1136,7 @@ If is {{empty}}, the CPE MUST NOT send STUN Binding Requests with message integr
 	 */
 	public ManagementServer withStuNUsername(String stuNUsername) {
 		this.stuNUsername = stuNUsername;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1115,6 +1162,7 @@ When read, this parameter returns {{empty}}, regardless of the actual value.
 	 */
 	public void  setStuNPassword(String stuNPassword) {
 		this.stuNPassword = stuNPassword;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1128,6 +1176,7 @@ When read, this parameter returns {{empty}}, regardless of the actual value.
 	 */
 	public ManagementServer withStuNPassword(String stuNPassword) {
 		this.stuNPassword = stuNPassword;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1153,6 +1202,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public void  setStuNMaximumKeepAlivePeriod(Integer stuNMaximumKeepAlivePeriod) {
 		this.stuNMaximumKeepAlivePeriod = stuNMaximumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1166,6 +1216,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public ManagementServer withStuNMaximumKeepAlivePeriod(Integer stuNMaximumKeepAlivePeriod) {
 		this.stuNMaximumKeepAlivePeriod = stuNMaximumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1187,6 +1238,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public void  setStuNMinimumKeepAlivePeriod(Long stuNMinimumKeepAlivePeriod) {
 		this.stuNMinimumKeepAlivePeriod = stuNMinimumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1198,6 +1250,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public ManagementServer withStuNMinimumKeepAlivePeriod(Long stuNMinimumKeepAlivePeriod) {
 		this.stuNMinimumKeepAlivePeriod = stuNMinimumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1227,6 +1280,7 @@ When {{param|STUNEnable}} is {{false}}, this value MUST be {{false}}.
 	 */
 	public void  setNatDetected(Boolean natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1242,6 +1296,7 @@ When {{param|STUNEnable}} is {{false}}, this value MUST be {{false}}.
 	 */
 	public ManagementServer withNatDetected(Boolean natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating an NTP or SNTP time client in the CPE.
@@ -87,6 +90,7 @@ public class Time {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "CurrentLocalTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime currentLocalTime;
 	/**
@@ -101,6 +105,11 @@ public class Time {
 	@Size(max = 256)
 	public String localTimeZone;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Time() {
 	}
 
@@ -123,6 +132,7 @@ public class Time {
 	 */
 	public void  setNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +144,7 @@ public class Time {
 	 */
 	public Time withNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -155,6 +166,7 @@ public class Time {
 	 */
 	public void  setNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -166,6 +178,7 @@ public class Time {
 	 */
 	public Time withNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -187,6 +200,7 @@ public class Time {
 	 */
 	public void  setNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -198,6 +212,7 @@ public class Time {
 	 */
 	public Time withNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -219,6 +234,7 @@ public class Time {
 	 */
 	public void  setNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -230,6 +246,7 @@ public class Time {
 	 */
 	public Time withNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -251,6 +268,7 @@ public class Time {
 	 */
 	public void  setNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -262,6 +280,7 @@ public class Time {
 	 */
 	public Time withNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -283,6 +302,7 @@ public class Time {
 	 */
 	public void  setCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -294,6 +314,7 @@ public class Time {
 	 */
 	public Time withCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -319,6 +340,7 @@ public class Time {
 	 */
 	public void  setLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -332,6 +354,7 @@ public class Time {
 	 */
 	public Time withLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
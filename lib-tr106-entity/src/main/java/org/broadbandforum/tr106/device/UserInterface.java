@@ -18,6 +18,7 @@ package org.broadbandforum.tr106.device;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +26,11 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating to the user interface of the CPE.
@@ -73,6 +77,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 * @since 1.0
 	 */
 	@XmlElement(name = "WarrantyDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime warrantyDate;
 	/**
@@ -223,6 +228,11 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	@Size(max = 16)
 	public String currentLanguage;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UserInterface() {
 	}
 
@@ -249,6 +259,7 @@ Indicates whether or not the local user interface MUST require a password to be
 	 */
 	public void  setPasswordRequired(Boolean passwordRequired) {
 		this.passwordRequired = passwordRequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -262,6 +273,7 @@ Indicates whether or not the local user interface MUST require a password to be
 	 */
 	public UserInterface withPasswordRequired(Boolean passwordRequired) {
 		this.passwordRequired = passwordRequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -287,6 +299,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setPasswordUserSelectable(Boolean passwordUserSelectable) {
 		this.passwordUserSelectable = passwordUserSelectable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -300,6 +313,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withPasswordUserSelectable(Boolean passwordUserSelectable) {
 		this.passwordUserSelectable = passwordUserSelectable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -321,6 +335,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setUpgradeAvailable(Boolean upgradeAvailable) {
 		this.upgradeAvailable = upgradeAvailable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -332,6 +347,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withUpgradeAvailable(Boolean upgradeAvailable) {
 		this.upgradeAvailable = upgradeAvailable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -353,6 +369,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setWarrantyDate(LocalDateTime warrantyDate) {
 		this.warrantyDate = warrantyDate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -364,6 +381,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withWarrantyDate(LocalDateTime warrantyDate) {
 		this.warrantyDate = warrantyDate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -385,6 +403,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspName(String ispName) {
 		this.ispName = ispName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -396,6 +415,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspName(String ispName) {
 		this.ispName = ispName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -417,6 +437,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspHelpDesk(String ispHelpDesk) {
 		this.ispHelpDesk = ispHelpDesk;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -428,6 +449,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspHelpDesk(String ispHelpDesk) {
 		this.ispHelpDesk = ispHelpDesk;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -449,6 +471,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspHomePage(String ispHomePage) {
 		this.ispHomePage = ispHomePage;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -460,6 +483,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspHomePage(String ispHomePage) {
 		this.ispHomePage = ispHomePage;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -481,6 +505,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspHelpPage(String ispHelpPage) {
 		this.ispHelpPage = ispHelpPage;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -492,6 +517,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspHelpPage(String ispHelpPage) {
 		this.ispHelpPage = ispHelpPage;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -513,6 +539,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public void  setIspLogo(String ispLogo) {
 		this.ispLogo = ispLogo;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -524,6 +551,7 @@ Indicates whether or not a password to protect the local user interface of the C
 	 */
 	public UserInterface withIspLogo(String ispLogo) {
 		this.ispLogo = ispLogo;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -553,6 +581,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setIspLogoSize(Long ispLogoSize) {
 		this.ispLogoSize = ispLogoSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -568,6 +597,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withIspLogoSize(Long ispLogoSize) {
 		this.ispLogoSize = ispLogoSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -589,6 +619,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setIspMailServer(String ispMailServer) {
 		this.ispMailServer = ispMailServer;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -600,6 +631,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withIspMailServer(String ispMailServer) {
 		this.ispMailServer = ispMailServer;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -621,6 +653,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setIspNewsServer(String ispNewsServer) {
 		this.ispNewsServer = ispNewsServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -632,6 +665,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withIspNewsServer(String ispNewsServer) {
 		this.ispNewsServer = ispNewsServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -653,6 +687,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setTextColor(String textColor) {
 		this.textColor = textColor;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -664,6 +699,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withTextColor(String textColor) {
 		this.textColor = textColor;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -685,6 +721,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setBackgroundColor(String backgroundColor) {
 		this.backgroundColor = backgroundColor;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -696,6 +733,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withBackgroundColor(String backgroundColor) {
 		this.backgroundColor = backgroundColor;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -717,6 +755,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setButtonColor(String buttonColor) {
 		this.buttonColor = buttonColor;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -728,6 +767,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withButtonColor(String buttonColor) {
 		this.buttonColor = buttonColor;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -749,6 +789,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setButtonTextColor(String buttonTextColor) {
 		this.buttonTextColor = buttonTextColor;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -760,6 +801,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withButtonTextColor(String buttonTextColor) {
 		this.buttonTextColor = buttonTextColor;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -781,6 +823,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setAutoUpdateServer(String autoUpdateServer) {
 		this.autoUpdateServer = autoUpdateServer;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -792,6 +835,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withAutoUpdateServer(String autoUpdateServer) {
 		this.autoUpdateServer = autoUpdateServer;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -813,6 +857,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setUserUpdateServer(String userUpdateServer) {
 		this.userUpdateServer = userUpdateServer;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -824,6 +869,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withUserUpdateServer(String userUpdateServer) {
 		this.userUpdateServer = userUpdateServer;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -838,6 +884,17 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 		return availableLanguages;
 	}
 
+	/**
+	 * Read the comma-separated list of user-interface languages that are available, where each language is specified according to RFC 3066 {{bibref|RFC3066}}.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAvailableLanguages() {
+		return availableLanguages == null ? Collections.emptyList() : availableLanguages;
+	}
+
 	/**
 	 * Set the comma-separated list of user-interface languages that are available, where each language is specified according to RFC 3066 {{bibref|RFC3066}}.
 	 *
@@ -846,6 +903,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setAvailableLanguages(Collection<String> availableLanguages) {
 		this.availableLanguages = availableLanguages;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -857,6 +915,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withAvailableLanguages(String string) {
 		getAvailableLanguages().add(string);
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -878,6 +937,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public void  setCurrentLanguage(String currentLanguage) {
 		this.currentLanguage = currentLanguage;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -889,6 +949,7 @@ ISPLogoSize can also be used as a check to verify correct transfer and conversio
 	 */
 	public UserInterface withCurrentLanguage(String currentLanguage) {
 		this.currentLanguage = currentLanguage;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
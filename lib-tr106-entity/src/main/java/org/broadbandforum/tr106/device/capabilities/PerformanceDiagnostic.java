@@ -17,6 +17,7 @@ package org.broadbandforum.tr106.device.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The capabilities of the Performance Diagnostics (''DownloadDiagnostics'' and ''UploadDiagnostics'') for the device.
@@ -53,6 +55,11 @@ public class PerformanceDiagnostic {
 	@XmlList
 	public Collection<String> uploadTransports;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PerformanceDiagnostic() {
 	}
 
@@ -68,6 +75,17 @@ public class PerformanceDiagnostic {
 		return downloadTransports;
 	}
 
+	/**
+	 * Read the supported ''DownloadDiagnostics'' transport protocols for a CPE device.
+	 *
+	 * @since 1.2
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDownloadTransports() {
+		return downloadTransports == null ? Collections.emptyList() : downloadTransports;
+	}
+
 	/**
 	 * Set the supported ''DownloadDiagnostics'' transport protocols for a CPE device.
 	 *
@@ -76,6 +94,7 @@ public class PerformanceDiagnostic {
 	 */
 	public void  setDownloadTransports(Collection<String> downloadTransports) {
 		this.downloadTransports = downloadTransports;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +106,7 @@ public class PerformanceDiagnostic {
 	 */
 	public PerformanceDiagnostic withDownloadTransports(String string) {
 		getDownloadTransports().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -101,6 +121,17 @@ public class PerformanceDiagnostic {
 		return uploadTransports;
 	}
 
+	/**
+	 * Read the supported ''UploadDiagnostics'' transport protocols for a CPE device.
+	 *
+	 * @since 1.2
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUploadTransports() {
+		return uploadTransports == null ? Collections.emptyList() : uploadTransports;
+	}
+
 	/**
 	 * Set the supported ''UploadDiagnostics'' transport protocols for a CPE device.
 	 *
@@ -109,6 +140,7 @@ public class PerformanceDiagnostic {
 	 */
 	public void  setUploadTransports(Collection<String> uploadTransports) {
 		this.uploadTransports = uploadTransports;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -120,6 +152,7 @@ public class PerformanceDiagnostic {
 	 */
 	public PerformanceDiagnostic withUploadTransports(String string) {
 		getUploadTransports().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
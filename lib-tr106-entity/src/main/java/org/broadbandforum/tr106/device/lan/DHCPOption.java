@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is for configuration of DHCP options.  Each instance of this object represents a DHCP option to be included by the DHCP client in client requests.  The DHCP client MAY include any other options not specified in this table.
@@ -65,6 +66,11 @@ public class DHCPOption {
 	@CWMPParameter(access = "readWrite")
 	public String value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DHCPOption() {
 	}
 
@@ -95,6 +101,7 @@ public class DHCPOption {
 	 */
 	public void  setRequest(Boolean request) {
 		this.request = request;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +117,7 @@ public class DHCPOption {
 	 */
 	public DHCPOption withRequest(Boolean request) {
 		this.request = request;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +139,7 @@ public class DHCPOption {
 	 */
 	public void  setTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -142,6 +151,7 @@ public class DHCPOption {
 	 */
 	public DHCPOption withTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -163,6 +173,7 @@ public class DHCPOption {
 	 */
 	public void  setValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -174,6 +185,7 @@ public class DHCPOption {
 	 */
 	public DHCPOption withValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object defines access to an IP-layer ping test for the default IP interface.
@@ -147,6 +148,11 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long maximumResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPPingDiagnostics() {
 	}
 
@@ -205,6 +211,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -234,6 +241,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -255,6 +263,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -266,6 +275,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -287,6 +297,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -298,6 +309,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -319,6 +331,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -330,6 +343,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -351,6 +365,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -362,6 +377,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -383,6 +399,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -394,6 +411,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -415,6 +433,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -426,6 +445,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -447,6 +467,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -458,6 +479,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -479,6 +501,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -490,6 +513,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -511,6 +535,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -522,6 +547,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -543,6 +569,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -554,6 +581,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains statistics for the default IP interface.
@@ -163,6 +164,11 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long quarterHourPacketsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -193,6 +199,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setConnectionUpTime(Long connectionUpTime) {
 		this.connectionUpTime = connectionUpTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -208,6 +215,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withConnectionUpTime(Long connectionUpTime) {
 		this.connectionUpTime = connectionUpTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -229,6 +237,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -240,6 +249,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -261,6 +271,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -272,6 +283,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -293,6 +305,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -304,6 +317,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -325,6 +339,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -336,6 +351,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -361,6 +377,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public void  setCurrentDayInterval(Long currentDayInterval) {
 		this.currentDayInterval = currentDayInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -374,6 +391,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public Stats withCurrentDayInterval(Long currentDayInterval) {
 		this.currentDayInterval = currentDayInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -395,6 +413,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public void  setCurrentDayBytesSent(Long currentDayBytesSent) {
 		this.currentDayBytesSent = currentDayBytesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -406,6 +425,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public Stats withCurrentDayBytesSent(Long currentDayBytesSent) {
 		this.currentDayBytesSent = currentDayBytesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -427,6 +447,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public void  setCurrentDayBytesReceived(Long currentDayBytesReceived) {
 		this.currentDayBytesReceived = currentDayBytesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -438,6 +459,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public Stats withCurrentDayBytesReceived(Long currentDayBytesReceived) {
 		this.currentDayBytesReceived = currentDayBytesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -459,6 +481,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public void  setCurrentDayPacketsSent(Long currentDayPacketsSent) {
 		this.currentDayPacketsSent = currentDayPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -470,6 +493,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public Stats withCurrentDayPacketsSent(Long currentDayPacketsSent) {
 		this.currentDayPacketsSent = currentDayPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -491,6 +515,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public void  setCurrentDayPacketsReceived(Long currentDayPacketsReceived) {
 		this.currentDayPacketsReceived = currentDayPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -502,6 +527,7 @@ The device MAY align the beginning of each CurrentDay interval with days in the
 	 */
 	public Stats withCurrentDayPacketsReceived(Long currentDayPacketsReceived) {
 		this.currentDayPacketsReceived = currentDayPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -527,6 +553,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setQuarterHourInterval(Long quarterHourInterval) {
 		this.quarterHourInterval = quarterHourInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -540,6 +567,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withQuarterHourInterval(Long quarterHourInterval) {
 		this.quarterHourInterval = quarterHourInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -561,6 +589,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setQuarterHourBytesSent(Long quarterHourBytesSent) {
 		this.quarterHourBytesSent = quarterHourBytesSent;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -572,6 +601,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withQuarterHourBytesSent(Long quarterHourBytesSent) {
 		this.quarterHourBytesSent = quarterHourBytesSent;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -593,6 +623,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setQuarterHourBytesReceived(Long quarterHourBytesReceived) {
 		this.quarterHourBytesReceived = quarterHourBytesReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -604,6 +635,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withQuarterHourBytesReceived(Long quarterHourBytesReceived) {
 		this.quarterHourBytesReceived = quarterHourBytesReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -625,6 +657,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setQuarterHourPacketsSent(Long quarterHourPacketsSent) {
 		this.quarterHourPacketsSent = quarterHourPacketsSent;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -636,6 +669,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withQuarterHourPacketsSent(Long quarterHourPacketsSent) {
 		this.quarterHourPacketsSent = quarterHourPacketsSent;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -657,6 +691,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public void  setQuarterHourPacketsReceived(Long quarterHourPacketsReceived) {
 		this.quarterHourPacketsReceived = quarterHourPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -668,6 +703,7 @@ The device MAY align the beginning of each QuarterHour interval with real-time q
 	 */
 	public Stats withQuarterHourPacketsReceived(Long quarterHourPacketsReceived) {
 		this.quarterHourPacketsReceived = quarterHourPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
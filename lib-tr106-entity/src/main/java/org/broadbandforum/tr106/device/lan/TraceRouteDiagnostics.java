@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr106.device.lan;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr106.device.lan.traceroutediagnostics.RouteHops;
 
 	/**
@@ -133,6 +135,11 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	@XmlElement(name = "RouteHops")
 	public Collection<RouteHops> routeHopss;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TraceRouteDiagnostics() {
 	}
 
@@ -191,6 +198,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -220,6 +228,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -241,6 +250,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -252,6 +262,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -273,6 +284,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -284,6 +296,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -305,6 +318,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -316,6 +330,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -337,6 +352,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setMaxHopCount(Long maxHopCount) {
 		this.maxHopCount = maxHopCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -348,6 +364,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withMaxHopCount(Long maxHopCount) {
 		this.maxHopCount = maxHopCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -369,6 +386,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -380,6 +398,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -401,6 +420,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setResponseTime(Long responseTime) {
 		this.responseTime = responseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -412,6 +432,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withResponseTime(Long responseTime) {
 		this.responseTime = responseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -433,6 +454,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setNumberOfRouteHops(Long numberOfRouteHops) {
 		this.numberOfRouteHops = numberOfRouteHops;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -444,6 +466,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public TraceRouteDiagnostics withNumberOfRouteHops(Long numberOfRouteHops) {
 		this.numberOfRouteHops = numberOfRouteHops;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -453,10 +476,20 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 * @return the value
 	 */
 	public Collection<RouteHops> getRouteHopss() {
-		if (this.routeHopss == null){ this.routeHopss=new ArrayList<>();}
+		if (!(this.routeHopss instanceof InstanceTable)){ this.routeHopss=InstanceTable.of(this.routeHopss);}
 		return routeHopss;
 	}
 
+	/**
+	 * Read the result parameter indicating the components of the discovered route.  If a route could not be determined, there will be no instances of this object.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RouteHops> viewRouteHopss() {
+		return routeHopss == null ? Collections.emptyList() : routeHopss;
+	}
+
 	/**
 	 * Set the result parameter indicating the components of the discovered route.  If a route could not be determined, there will be no instances of this object.
 	 *
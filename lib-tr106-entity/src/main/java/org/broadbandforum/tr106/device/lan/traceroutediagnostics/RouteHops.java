@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Result parameter indicating the components of the discovered route.  If a route could not be determined, there will be no instances of this object.
@@ -45,6 +46,11 @@ public class RouteHops {
 	@Size(max = 256)
 	public String hopHost;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RouteHops() {
 	}
 
@@ -67,6 +73,7 @@ public class RouteHops {
 	 */
 	public void  setHopHost(String hopHost) {
 		this.hopHost = hopHost;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -78,6 +85,7 @@ public class RouteHops {
 	 */
 	public RouteHops withHopHost(String hopHost) {
 		this.hopHost = hopHost;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
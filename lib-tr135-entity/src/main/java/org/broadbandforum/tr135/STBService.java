@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.AVPlayers;
 import org.broadbandforum.tr135.stbservice.AVStreams;
 import org.broadbandforum.tr135.stbservice.Applications;
@@ -109,6 +111,16 @@ Refer to {{bibref|TR-135|I.3}} for non-normative explanation of the operation of
 	@XmlElement(name = "Applications")
 	public Applications applications;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public STBService() {
 	}
 
@@ -131,6 +143,7 @@ Refer to {{bibref|TR-135|I.3}} for non-normative explanation of the operation of
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -142,6 +155,7 @@ Refer to {{bibref|TR-135|I.3}} for non-normative explanation of the operation of
 	 */
 	public STBService withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,8 @@ Refer to {{bibref|TR-135|I.3}} for non-normative explanation of the operation of
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -174,6 +190,8 @@ Refer to {{bibref|TR-135|I.3}} for non-normative explanation of the operation of
 	 */
 	public STBService withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
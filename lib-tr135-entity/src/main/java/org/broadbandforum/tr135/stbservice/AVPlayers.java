@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.avplayers.AVPlayer;
 
 	/**
@@ -100,6 +102,11 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	@XmlElement(name = "AVPlayer")
 	public Collection<AVPlayer> avplayers;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AVPlayers() {
 	}
 
@@ -122,6 +129,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public void  setActiveAVPlayers(Long activeAVPlayers) {
 		this.activeAVPlayers = activeAVPlayers;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -133,6 +141,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public AVPlayers withActiveAVPlayers(Long activeAVPlayers) {
 		this.activeAVPlayers = activeAVPlayers;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -158,6 +167,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public void  setPreferredAudioLanguage(String preferredAudioLanguage) {
 		this.preferredAudioLanguage = preferredAudioLanguage;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -171,6 +181,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public AVPlayers withPreferredAudioLanguage(String preferredAudioLanguage) {
 		this.preferredAudioLanguage = preferredAudioLanguage;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -200,6 +211,7 @@ A value of ''None'' indicates that no subtitling is required.
 	 */
 	public void  setPreferredSubtitlingLanguage(String preferredSubtitlingLanguage) {
 		this.preferredSubtitlingLanguage = preferredSubtitlingLanguage;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -215,6 +227,7 @@ A value of ''None'' indicates that no subtitling is required.
 	 */
 	public AVPlayers withPreferredSubtitlingLanguage(String preferredSubtitlingLanguage) {
 		this.preferredSubtitlingLanguage = preferredSubtitlingLanguage;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -240,6 +253,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public void  setPreferredBehaviour(String preferredBehaviour) {
 		this.preferredBehaviour = preferredBehaviour;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -253,6 +267,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public AVPlayers withPreferredBehaviour(String preferredBehaviour) {
 		this.preferredBehaviour = preferredBehaviour;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -274,6 +289,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public void  setResetPINCode(Boolean resetPINCode) {
 		this.resetPINCode = resetPINCode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -285,6 +301,7 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 */
 	public AVPlayers withResetPINCode(Boolean resetPINCode) {
 		this.resetPINCode = resetPINCode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -294,10 +311,20 @@ If non-empty, the string MUST be one of the .Components.VideoOutput.{i}. AspectR
 	 * @return the value
 	 */
 	public Collection<AVPlayer> getAvplayers() {
-		if (this.avplayers == null){ this.avplayers=new ArrayList<>();}
+		if (!(this.avplayers instanceof InstanceTable)){ this.avplayers=InstanceTable.of(this.avplayers);}
 		return avplayers;
 	}
 
+	/**
+	 * Read the list of AV Player objects. Each item is one particular AV player being processed by the STB.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AVPlayer> viewAvplayers() {
+		return avplayers == null ? Collections.emptyList() : avplayers;
+	}
+
 	/**
 	 * Set the list of AV Player objects. Each item is one particular AV player being processed by the STB.
 	 *
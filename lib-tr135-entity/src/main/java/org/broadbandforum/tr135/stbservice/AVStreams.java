@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.avstreams.AVStream;
 
 	/**
@@ -51,6 +53,11 @@ public class AVStreams {
 	@XmlElement(name = "AVStream")
 	public Collection<AVStream> avstreams;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AVStreams() {
 	}
 
@@ -73,6 +80,7 @@ public class AVStreams {
 	 */
 	public void  setActiveAVStreams(Long activeAVStreams) {
 		this.activeAVStreams = activeAVStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +92,7 @@ public class AVStreams {
 	 */
 	public AVStreams withActiveAVStreams(Long activeAVStreams) {
 		this.activeAVStreams = activeAVStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -93,10 +102,20 @@ public class AVStreams {
 	 * @return the value
 	 */
 	public Collection<AVStream> getAvstreams() {
-		if (this.avstreams == null){ this.avstreams=new ArrayList<>();}
+		if (!(this.avstreams instanceof InstanceTable)){ this.avstreams=InstanceTable.of(this.avstreams);}
 		return avstreams;
 	}
 
+	/**
+	 * Read the details of each AVStream. AV streams are created statically. Each AV stream corresponds to a valid ''{FrontEnd, AudioDecoder, VideoDecoder}'' instance combination (although if the PVR is active for this stream, only ''{FrontEnd}'' or ''{AudioDecoder, VideoDecoder}'' will be in use).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AVStream> viewAvstreams() {
+		return avstreams == null ? Collections.emptyList() : avstreams;
+	}
+
 	/**
 	 * Set the details of each AVStream. AV streams are created statically. Each AV stream corresponds to a valid ''{FrontEnd, AudioDecoder, VideoDecoder}'' instance combination (although if the PVR is active for this stream, only ''{FrontEnd}'' or ''{AudioDecoder, VideoDecoder}'' will be in use).
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.applications.AudienceStats;
 import org.broadbandforum.tr135.stbservice.applications.CDSPull;
 import org.broadbandforum.tr135.stbservice.applications.CDSPush;
@@ -72,10 +73,20 @@ public class Applications {
 	 * @return the value
 	 */
 	public Collection<ServiceProvider> getServiceProviders() {
-		if (this.serviceProviders == null){ this.serviceProviders=new ArrayList<>();}
+		if (!(this.serviceProviders instanceof InstanceTable)){ this.serviceProviders=InstanceTable.of(this.serviceProviders);}
 		return serviceProviders;
 	}
 
+	/**
+	 * Read the service Provider instance table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ServiceProvider> viewServiceProviders() {
+		return serviceProviders == null ? Collections.emptyList() : serviceProviders;
+	}
+
 	/**
 	 * Set the service Provider instance table.
 	 *
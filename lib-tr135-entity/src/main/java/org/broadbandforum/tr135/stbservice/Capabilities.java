@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr135.stbservice.capabilities.AudienceStats;
 import org.broadbandforum.tr135.stbservice.capabilities.AudioDecoder;
 import org.broadbandforum.tr135.stbservice.capabilities.AudioOutput;
@@ -133,6 +134,11 @@ A value of 0, while not strictly illegal, would indicate an STB that doesn't sup
 	@XmlElement(name = "AudienceStats")
 	public AudienceStats audienceStats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -163,6 +169,7 @@ A value of 0, while not strictly illegal, would indicate an STB that doesn't sup
 	 */
 	public void  setMaxActiveAVStreams(Integer maxActiveAVStreams) {
 		this.maxActiveAVStreams = maxActiveAVStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -178,6 +185,7 @@ A value of 0, while not strictly illegal, would indicate an STB that doesn't sup
 	 */
 	public Capabilities withMaxActiveAVStreams(Integer maxActiveAVStreams) {
 		this.maxActiveAVStreams = maxActiveAVStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -211,6 +219,7 @@ A value of 0, while not strictly illegal, would indicate an STB that doesn't sup
 	 */
 	public void  setMaxActiveAVPlayers(Integer maxActiveAVPlayers) {
 		this.maxActiveAVPlayers = maxActiveAVPlayers;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -228,6 +237,7 @@ A value of 0, while not strictly illegal, would indicate an STB that doesn't sup
 	 */
 	public Capabilities withMaxActiveAVPlayers(Integer maxActiveAVPlayers) {
 		this.maxActiveAVPlayers = maxActiveAVPlayers;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
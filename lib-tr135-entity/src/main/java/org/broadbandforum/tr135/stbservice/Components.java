@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.AudioDecoder;
 import org.broadbandforum.tr135.stbservice.components.AudioOutput;
 import org.broadbandforum.tr135.stbservice.components.CA;
@@ -123,10 +124,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<FrontEnd> getFrontEnds() {
-		if (this.frontEnds == null){ this.frontEnds=new ArrayList<>();}
+		if (!(this.frontEnds instanceof InstanceTable)){ this.frontEnds=InstanceTable.of(this.frontEnds);}
 		return frontEnds;
 	}
 
+	/**
+	 * Read the frontEnd instance table. Each front-end instance, including vendor-specific front-end types, will normally have a sub-object that corresponds to the front-end type (e.g. DVB-T or IP).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<FrontEnd> viewFrontEnds() {
+		return frontEnds == null ? Collections.emptyList() : frontEnds;
+	}
+
 	/**
 	 * Set the frontEnd instance table. Each front-end instance, including vendor-specific front-end types, will normally have a sub-object that corresponds to the front-end type (e.g. DVB-T or IP).
 	 *
@@ -182,10 +193,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<AudioDecoder> getAudioDecoders() {
-		if (this.audioDecoders == null){ this.audioDecoders=new ArrayList<>();}
+		if (!(this.audioDecoders instanceof InstanceTable)){ this.audioDecoders=InstanceTable.of(this.audioDecoders);}
 		return audioDecoders;
 	}
 
+	/**
+	 * Get audio decoder instance table. It contains data representing the current status of the Audio decoder.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AudioDecoder> viewAudioDecoders() {
+		return audioDecoders == null ? Collections.emptyList() : audioDecoders;
+	}
+
 	/**
 	 * Set audio decoder instance table. It contains data representing the current status of the Audio decoder.
 	 *
@@ -212,10 +233,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<VideoDecoder> getVideoDecoders() {
-		if (this.videoDecoders == null){ this.videoDecoders=new ArrayList<>();}
+		if (!(this.videoDecoders instanceof InstanceTable)){ this.videoDecoders=InstanceTable.of(this.videoDecoders);}
 		return videoDecoders;
 	}
 
+	/**
+	 * Read the video decoder instance table. It contains data representing the current status of the video decoder.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VideoDecoder> viewVideoDecoders() {
+		return videoDecoders == null ? Collections.emptyList() : videoDecoders;
+	}
+
 	/**
 	 * Set the video decoder instance table. It contains data representing the current status of the video decoder.
 	 *
@@ -242,10 +273,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<AudioOutput> getAudioOutputs() {
-		if (this.audioOutputs == null){ this.audioOutputs=new ArrayList<>();}
+		if (!(this.audioOutputs instanceof InstanceTable)){ this.audioOutputs=InstanceTable.of(this.audioOutputs);}
 		return audioOutputs;
 	}
 
+	/**
+	 * Get audio output instance table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AudioOutput> viewAudioOutputs() {
+		return audioOutputs == null ? Collections.emptyList() : audioOutputs;
+	}
+
 	/**
 	 * Set audio output instance table.
 	 *
@@ -272,10 +313,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<SPDIF> getSpdIFs() {
-		if (this.spdIFs == null){ this.spdIFs=new ArrayList<>();}
+		if (!(this.spdIFs instanceof InstanceTable)){ this.spdIFs=InstanceTable.of(this.spdIFs);}
 		return spdIFs;
 	}
 
+	/**
+	 * Read the s/pDIF output instance table configuration. This object, if present, is connected to the audio ouput instance currently delivering S/PDIF audio format as described in {{bibref|SPDIF}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SPDIF> viewSpdIFs() {
+		return spdIFs == null ? Collections.emptyList() : spdIFs;
+	}
+
 	/**
 	 * Set the s/pDIF output instance table configuration. This object, if present, is connected to the audio ouput instance currently delivering S/PDIF audio format as described in {{bibref|SPDIF}}.
 	 *
@@ -302,10 +353,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<VideoOutput> getVideoOutputs() {
-		if (this.videoOutputs == null){ this.videoOutputs=new ArrayList<>();}
+		if (!(this.videoOutputs instanceof InstanceTable)){ this.videoOutputs=InstanceTable.of(this.videoOutputs);}
 		return videoOutputs;
 	}
 
+	/**
+	 * Read the video output instance table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VideoOutput> viewVideoOutputs() {
+		return videoOutputs == null ? Collections.emptyList() : videoOutputs;
+	}
+
 	/**
 	 * Set the video output instance table.
 	 *
@@ -332,10 +393,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<SCART> getScaRTs() {
-		if (this.scaRTs == null){ this.scaRTs=new ArrayList<>();}
+		if (!(this.scaRTs instanceof InstanceTable)){ this.scaRTs=InstanceTable.of(this.scaRTs);}
 		return scaRTs;
 	}
 
+	/**
+	 * Read the scaRT configuration. This object allows configuration of the STB's AV switching.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SCART> viewScaRTs() {
+		return scaRTs == null ? Collections.emptyList() : scaRTs;
+	}
+
 	/**
 	 * Set the scaRT configuration. This object allows configuration of the STB's AV switching.
 	 *
@@ -362,10 +433,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<HDMI> getHdmIs() {
-		if (this.hdmIs == null){ this.hdmIs=new ArrayList<>();}
+		if (!(this.hdmIs instanceof InstanceTable)){ this.hdmIs=InstanceTable.of(this.hdmIs);}
 		return hdmIs;
 	}
 
+	/**
+	 * Read the hdmI instance table. This object allows configuration of the STB’s HDMI output.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<HDMI> viewHdmIs() {
+		return hdmIs == null ? Collections.emptyList() : hdmIs;
+	}
+
 	/**
 	 * Set the hdmI instance table. This object allows configuration of the STB’s HDMI output.
 	 *
@@ -392,10 +473,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<CA> getCas() {
-		if (this.cas == null){ this.cas=new ArrayList<>();}
+		if (!(this.cas instanceof InstanceTable)){ this.cas=InstanceTable.of(this.cas);}
 		return cas;
 	}
 
+	/**
+	 * Read the this object describes the characteristics of the Conditional Access, if any.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CA> viewCas() {
+		return cas == null ? Collections.emptyList() : cas;
+	}
+
 	/**
 	 * Set the this object describes the characteristics of the Conditional Access, if any.
 	 *
@@ -422,10 +513,20 @@ public class Components {
 	 * @return the value
 	 */
 	public Collection<DRM> getDrms() {
-		if (this.drms == null){ this.drms=new ArrayList<>();}
+		if (!(this.drms instanceof InstanceTable)){ this.drms=InstanceTable.of(this.drms);}
 		return drms;
 	}
 
+	/**
+	 * Read the this object describes the characteristics of the Digital Rights Management, if any.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<DRM> viewDrms() {
+		return drms == null ? Collections.emptyList() : drms;
+	}
+
 	/**
 	 * Set the this object describes the characteristics of the Digital Rights Management, if any.
 	 *
@@ -16,8 +16,8 @@
 package org.broadbandforum.tr135.stbservice;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +25,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.GlobalOperation;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.MainStream;
 
@@ -157,6 +161,7 @@ Note that, if {{param}} is set to a time other than the Unknown Time, the first
 	 * @since 1.0
 	 */
 	@XmlElement(name = "TimeReference")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime timeReference;
 	/**
@@ -181,6 +186,7 @@ At the end of each sample interval, if {{param}} was set to {{true}} during the
 	 * @since 1.0
 	 */
 	@XmlElement(name = "ReportStartTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime reportStartTime;
 	/**
 	 * The absolute time at which the sample interval for the last stored sample (for each statistic) ended.
@@ -190,6 +196,7 @@ If {{param|ForceSample}} has been used to force statistics for the current sampl
 	 * @since 1.0
 	 */
 	@XmlElement(name = "ReportEndTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime reportEndTime;
 	/**
 	 * Enables or disables the collection of the events for all main streams.
@@ -219,6 +226,11 @@ Note that some parameters, e.g. {{param|.Components.FrontEnd.{i}.IP.ServiceConne
 	@XmlElement(name = "MainStream")
 	public Collection<MainStream> mainStreams;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ServiceMonitoring() {
 	}
 
@@ -245,6 +257,7 @@ When collection of Sample statistics is enabled, any stored samples are discarde
 	 */
 	public void  setSampleEnable(Boolean sampleEnable) {
 		this.sampleEnable = sampleEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -258,6 +271,7 @@ When collection of Sample statistics is enabled, any stored samples are discarde
 	 */
 	public ServiceMonitoring withSampleEnable(Boolean sampleEnable) {
 		this.sampleEnable = sampleEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -287,6 +301,7 @@ The transition from {{enum|Enabled}} -> {{enum|Trigger}} -> {{enum|Enabled}} MUS
 	 */
 	public void  setSampleState(String sampleState) {
 		this.sampleState = sampleState;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -302,6 +317,7 @@ The transition from {{enum|Enabled}} -> {{enum|Trigger}} -> {{enum|Enabled}} MUS
 	 */
 	public ServiceMonitoring withSampleState(String sampleState) {
 		this.sampleState = sampleState;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -339,6 +355,7 @@ For example, if {{param|ReportSamples}} is 24 and {{param}} is 3600 (an hour), t
 	 */
 	public void  setSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -358,6 +375,7 @@ For example, if {{param|ReportSamples}} is 24 and {{param}} is 3600 (an hour), t
 	 */
 	public ServiceMonitoring withSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -391,6 +409,7 @@ For example, if {{param}} is 24 and {{param|SampleInterval}} is 3600 (an hour),
 	 */
 	public void  setReportSamples(Long reportSamples) {
 		this.reportSamples = reportSamples;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -408,6 +427,7 @@ For example, if {{param}} is 24 and {{param|SampleInterval}} is 3600 (an hour),
 	 */
 	public ServiceMonitoring withReportSamples(Long reportSamples) {
 		this.reportSamples = reportSamples;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -441,6 +461,7 @@ For example, if {{param|ReportSamples}} is 24 and {{param|SampleInterval}} is 36
 	 */
 	public void  setEventsPerSampleInterval(Long eventsPerSampleInterval) {
 		this.eventsPerSampleInterval = eventsPerSampleInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -458,6 +479,7 @@ For example, if {{param|ReportSamples}} is 24 and {{param|SampleInterval}} is 36
 	 */
 	public ServiceMonitoring withEventsPerSampleInterval(Long eventsPerSampleInterval) {
 		this.eventsPerSampleInterval = eventsPerSampleInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -483,6 +505,7 @@ For example, if {{param|ReportSamples}} is 25 and {{param}} is 24, then the STB
 	 */
 	public void  setFetchSamples(Long fetchSamples) {
 		this.fetchSamples = fetchSamples;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -496,6 +519,7 @@ For example, if {{param|ReportSamples}} is 25 and {{param}} is 24, then the STB
 	 */
 	public ServiceMonitoring withFetchSamples(Long fetchSamples) {
 		this.fetchSamples = fetchSamples;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -549,6 +573,7 @@ Note that, if {{param}} is set to a time other than the Unknown Time, the first
 	 */
 	public void  setTimeReference(LocalDateTime timeReference) {
 		this.timeReference = timeReference;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -576,6 +601,7 @@ Note that, if {{param}} is set to a time other than the Unknown Time, the first
 	 */
 	public ServiceMonitoring withTimeReference(LocalDateTime timeReference) {
 		this.timeReference = timeReference;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -613,6 +639,7 @@ At the end of each sample interval, if {{param}} was set to {{true}} during the
 	 */
 	public void  setForceSample(Boolean forceSample) {
 		this.forceSample = forceSample;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -632,6 +659,7 @@ At the end of each sample interval, if {{param}} was set to {{true}} during the
 	 */
 	public ServiceMonitoring withForceSample(Boolean forceSample) {
 		this.forceSample = forceSample;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -653,6 +681,7 @@ At the end of each sample interval, if {{param}} was set to {{true}} during the
 	 */
 	public void  setReportStartTime(LocalDateTime reportStartTime) {
 		this.reportStartTime = reportStartTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -664,6 +693,7 @@ At the end of each sample interval, if {{param}} was set to {{true}} during the
 	 */
 	public ServiceMonitoring withReportStartTime(LocalDateTime reportStartTime) {
 		this.reportStartTime = reportStartTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -689,6 +719,7 @@ If {{param|ForceSample}} has been used to force statistics for the current sampl
 	 */
 	public void  setReportEndTime(LocalDateTime reportEndTime) {
 		this.reportEndTime = reportEndTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -702,6 +733,7 @@ If {{param|ForceSample}} has been used to force statistics for the current sampl
 	 */
 	public ServiceMonitoring withReportEndTime(LocalDateTime reportEndTime) {
 		this.reportEndTime = reportEndTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -727,6 +759,7 @@ When the collection of events is enabled, any previously collected events are di
 	 */
 	public void  setEventCollectionEnable(Boolean eventCollectionEnable) {
 		this.eventCollectionEnable = eventCollectionEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -740,6 +773,7 @@ When the collection of events is enabled, any previously collected events are di
 	 */
 	public ServiceMonitoring withEventCollectionEnable(Boolean eventCollectionEnable) {
 		this.eventCollectionEnable = eventCollectionEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -784,10 +818,26 @@ Note that some parameters, e.g. {{param|.Components.FrontEnd.{i}.IP.ServiceConne
 	 * @return the value
 	 */
 	public Collection<MainStream> getMainStreams() {
-		if (this.mainStreams == null){ this.mainStreams=new ArrayList<>();}
+		if (!(this.mainStreams instanceof InstanceTable)){ this.mainStreams=InstanceTable.of(this.mainStreams);}
 		return mainStreams;
 	}
 
+	/**
+	 * Read the list of Main AV stream objects. Each instance is associated with a specified service type and will collect statistics only for the main stream that matches that service type.
+
+Note that this means that streams that do not match an instance's service type MUST NOT contribute to the instance's Total and Sample statistics.
+
+It is up to the STB to determine which AV stream should be regarded as the Main AV stream for a given service type at any given time.  For example, if two active streams are associated with the same service type, the STB might prefer streams that are associated with an AV player, or if more than one stream is associated with an AV player, the STB might prefer a player that is outputting a DVI stream to a player that is outputting an RF stream.
+
+Note that some parameters, e.g. {{param|.Components.FrontEnd.{i}.IP.ServiceConnect.URI}}, include requirements that restrict the STB's freedom to determine which AV stream should be regarded as the Main AV stream for a given service.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<MainStream> viewMainStreams() {
+		return mainStreams == null ? Collections.emptyList() : mainStreams;
+	}
+
 	/**
 	 * Set the list of Main AV stream objects. Each instance is associated with a specified service type and will collect statistics only for the main stream that matches that service type.
 
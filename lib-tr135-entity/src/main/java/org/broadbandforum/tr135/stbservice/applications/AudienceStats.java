@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.applications;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.applications.audiencestats.Channel;
 
 	/**
@@ -73,6 +75,11 @@ Each entry corresponds to a given TV channel and is indexed by channel name (the
 	@XmlElement(name = "Channel")
 	public Collection<Channel> channels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AudienceStats() {
 	}
 
@@ -95,6 +102,7 @@ Each entry corresponds to a given TV channel and is indexed by channel name (the
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -106,6 +114,7 @@ Each entry corresponds to a given TV channel and is indexed by channel name (the
 	 */
 	public AudienceStats withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +140,7 @@ Resetting statistics MUST reset all {{param|Channel.{i}.Duration}} parameters.
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +154,7 @@ Resetting statistics MUST reset all {{param|Channel.{i}.Duration}} parameters.
 	 */
 	public AudienceStats withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +176,7 @@ Resetting statistics MUST reset all {{param|Channel.{i}.Duration}} parameters.
 	 */
 	public void  setResetTime(Long resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +188,7 @@ Resetting statistics MUST reset all {{param|Channel.{i}.Duration}} parameters.
 	 */
 	public AudienceStats withResetTime(Long resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -187,10 +200,22 @@ Each entry corresponds to a given TV channel and is indexed by channel name (the
 	 * @return the value
 	 */
 	public Collection<Channel> getChannels() {
-		if (this.channels == null){ this.channels=new ArrayList<>();}
+		if (!(this.channels instanceof InstanceTable)){ this.channels=InstanceTable.of(this.channels);}
 		return channels;
 	}
 
+	/**
+	 * Read the table to record what the STB has been receiving. Time durations are recorded only for an AVPlayer's main AVStream (i.e. for TV channels being displayed in the main screen).
+
+Each entry corresponds to a given TV channel and is indexed by channel name (the instance number is chosen by the STB and is not related to the channel number).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Channel> viewChannels() {
+		return channels == null ? Collections.emptyList() : channels;
+	}
+
 	/**
 	 * Set the table to record what the STB has been receiving. Time durations are recorded only for an AVPlayer's main AVStream (i.e. for TV channels being displayed in the main screen).
 
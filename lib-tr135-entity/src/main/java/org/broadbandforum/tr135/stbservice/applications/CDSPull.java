@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.applications;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.applications.cdspull.ContentItem;
 
 	/**
@@ -53,6 +55,11 @@ public class CDSPull {
 	@XmlElement(name = "ContentItem")
 	public Collection<ContentItem> contentItems;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDSPull() {
 	}
 
@@ -75,6 +82,7 @@ public class CDSPull {
 	 */
 	public void  setReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -86,6 +94,7 @@ public class CDSPull {
 	 */
 	public CDSPull withReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -95,10 +104,20 @@ public class CDSPull {
 	 * @return the value
 	 */
 	public Collection<ContentItem> getContentItems() {
-		if (this.contentItems == null){ this.contentItems=new ArrayList<>();}
+		if (!(this.contentItems instanceof InstanceTable)){ this.contentItems=InstanceTable.of(this.contentItems);}
 		return contentItems;
 	}
 
+	/**
+	 * Read the content Item instance table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ContentItem> viewContentItems() {
+		return contentItems == null ? Collections.emptyList() : contentItems;
+	}
+
 	/**
 	 * Set the content Item instance table.
 	 *
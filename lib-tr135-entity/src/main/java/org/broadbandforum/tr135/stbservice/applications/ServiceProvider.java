@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Service Provider instance table.
@@ -82,6 +84,16 @@ public class ServiceProvider {
 	@Size(max = 1024)
 	public String activeBCGServers;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ServiceProvider() {
 	}
 
@@ -104,6 +116,8 @@ public class ServiceProvider {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -115,6 +129,8 @@ public class ServiceProvider {
 	 */
 	public ServiceProvider withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -136,6 +152,8 @@ public class ServiceProvider {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -147,6 +165,8 @@ public class ServiceProvider {
 	 */
 	public ServiceProvider withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -168,6 +188,7 @@ public class ServiceProvider {
 	 */
 	public void  setDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -179,6 +200,7 @@ public class ServiceProvider {
 	 */
 	public ServiceProvider withDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -200,6 +222,7 @@ public class ServiceProvider {
 	 */
 	public void  setServiceDiscoveryServer(String serviceDiscoveryServer) {
 		this.serviceDiscoveryServer = serviceDiscoveryServer;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -211,6 +234,7 @@ public class ServiceProvider {
 	 */
 	public ServiceProvider withServiceDiscoveryServer(String serviceDiscoveryServer) {
 		this.serviceDiscoveryServer = serviceDiscoveryServer;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -232,6 +256,7 @@ public class ServiceProvider {
 	 */
 	public void  setActiveBCGServers(String activeBCGServers) {
 		this.activeBCGServers = activeBCGServers;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -243,6 +268,7 @@ public class ServiceProvider {
 	 */
 	public ServiceProvider withActiveBCGServers(String activeBCGServers) {
 		this.activeBCGServers = activeBCGServers;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
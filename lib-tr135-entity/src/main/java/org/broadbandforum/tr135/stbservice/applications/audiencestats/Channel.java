@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table to record what the STB has been receiving. Time durations are recorded only for an AVPlayer's main AVStream (i.e. for TV channels being displayed in the main screen).
@@ -65,6 +67,16 @@ public class Channel {
 	@CWMPParameter(activeNotify = "canDeny", units = "seconds")
 	public Long duration;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Channel() {
 	}
 
@@ -87,6 +99,8 @@ public class Channel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -98,6 +112,8 @@ public class Channel {
 	 */
 	public Channel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -119,6 +135,8 @@ public class Channel {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -130,6 +148,8 @@ public class Channel {
 	 */
 	public Channel withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -151,6 +171,7 @@ public class Channel {
 	 */
 	public void  setDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -162,6 +183,7 @@ public class Channel {
 	 */
 	public Channel withDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Content Item instance table.
@@ -70,6 +72,16 @@ public class ContentItem {
 	@CWMPParameter(access = "readWrite")
 	public Boolean deleteItem;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ContentItem() {
 	}
 
@@ -92,6 +104,8 @@ public class ContentItem {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -103,6 +117,8 @@ public class ContentItem {
 	 */
 	public ContentItem withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -124,6 +140,8 @@ public class ContentItem {
 	 */
 	public void  setContentReferenceId(String contentReferenceId) {
 		this.contentReferenceId = contentReferenceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -135,6 +153,8 @@ public class ContentItem {
 	 */
 	public ContentItem withContentReferenceId(String contentReferenceId) {
 		this.contentReferenceId = contentReferenceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -156,6 +176,7 @@ public class ContentItem {
 	 */
 	public void  setVersionNumber(Long versionNumber) {
 		this.versionNumber = versionNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -167,6 +188,7 @@ public class ContentItem {
 	 */
 	public ContentItem withVersionNumber(Long versionNumber) {
 		this.versionNumber = versionNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -188,6 +210,7 @@ public class ContentItem {
 	 */
 	public void  setDeleteItem(Boolean deleteItem) {
 		this.deleteItem = deleteItem;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -199,6 +222,7 @@ public class ContentItem {
 	 */
 	public ContentItem withDeleteItem(Boolean deleteItem) {
 		this.deleteItem = deleteItem;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.avplayers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * List of AV Player objects. Each item is one particular AV player being processed by the STB.
@@ -151,6 +154,16 @@ Subtitles are assumed to be shown only on the main screen.
 	@XmlList
 	public Collection<String> pipStreams;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AVPlayer() {
 	}
 
@@ -173,6 +186,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -184,6 +198,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public AVPlayer withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -213,6 +228,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -228,6 +244,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVPlayer withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -249,6 +266,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -260,6 +279,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVPlayer withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -281,6 +302,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -292,6 +315,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVPlayer withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -313,6 +338,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAudioLanguage(String audioLanguage) {
 		this.audioLanguage = audioLanguage;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -324,6 +350,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVPlayer withAudioLanguage(String audioLanguage) {
 		this.audioLanguage = audioLanguage;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -353,6 +380,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setSubtitlingStatus(String subtitlingStatus) {
 		this.subtitlingStatus = subtitlingStatus;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -368,6 +396,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVPlayer withSubtitlingStatus(String subtitlingStatus) {
 		this.subtitlingStatus = subtitlingStatus;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -393,6 +422,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public void  setSubtitlingLanguage(String subtitlingLanguage) {
 		this.subtitlingLanguage = subtitlingLanguage;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -406,6 +436,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public AVPlayer withSubtitlingLanguage(String subtitlingLanguage) {
 		this.subtitlingLanguage = subtitlingLanguage;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -422,6 +453,19 @@ Subtitles are assumed to be shown only on the main screen.
 		return audioOutputs;
 	}
 
+	/**
+	 * Get audio output object instances associated with this AV player, or {{empty}} if not associated with any audio output object instances.  For example:
+
+''.Components.AudioOutput.2''
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAudioOutputs() {
+		return audioOutputs == null ? Collections.emptyList() : audioOutputs;
+	}
+
 	/**
 	 * Set audio output object instances associated with this AV player, or {{empty}} if not associated with any audio output object instances.  For example:
 
@@ -432,6 +476,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public void  setAudioOutputs(Collection<String> audioOutputs) {
 		this.audioOutputs = audioOutputs;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -445,6 +490,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public AVPlayer withAudioOutputs(String string) {
 		getAudioOutputs().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -461,6 +507,19 @@ Subtitles are assumed to be shown only on the main screen.
 		return videoOutputs;
 	}
 
+	/**
+	 * Read the video output object instances associated with this AV player, or {{empty}} if not associated with any video output object instances.  For example:
+
+''.Components.VideoOutput.2''
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVideoOutputs() {
+		return videoOutputs == null ? Collections.emptyList() : videoOutputs;
+	}
+
 	/**
 	 * Set the video output object instances associated with this AV player, or {{empty}} if not associated with any video output object instances.  For example:
 
@@ -471,6 +530,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public void  setVideoOutputs(Collection<String> videoOutputs) {
 		this.videoOutputs = videoOutputs;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -484,6 +544,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public AVPlayer withVideoOutputs(String string) {
 		getVideoOutputs().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -509,6 +570,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public void  setMainStream(String mainStream) {
 		this.mainStream = mainStream;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -522,6 +584,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public AVPlayer withMainStream(String mainStream) {
 		this.mainStream = mainStream;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -540,6 +603,21 @@ Subtitles are assumed to be shown only on the main screen.
 		return pipStreams;
 	}
 
+	/**
+	 * Get av stream object instances associated with this AV player that are being displayed as Picture In Picture (PIP), or {{empty}} if not associated with any PIP AV stream objects.  For example:
+
+* ''.AVStreams.AVStream.2''
+
+* ''.AVStreams.AVStream.2,.AVStreams.AVStream.3''
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPipStreams() {
+		return pipStreams == null ? Collections.emptyList() : pipStreams;
+	}
+
 	/**
 	 * Set av stream object instances associated with this AV player that are being displayed as Picture In Picture (PIP), or {{empty}} if not associated with any PIP AV stream objects.  For example:
 
@@ -552,6 +630,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public void  setPipStreams(Collection<String> pipStreams) {
 		this.pipStreams = pipStreams;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -567,6 +646,7 @@ Subtitles are assumed to be shown only on the main screen.
 	 */
 	public AVPlayer withPipStreams(String string) {
 		getPipStreams().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Details of each AVStream. AV streams are created statically. Each AV stream corresponds to a valid ''{FrontEnd, AudioDecoder, VideoDecoder}'' instance combination (although if the PVR is active for this stream, only ''{FrontEnd}'' or ''{AudioDecoder, VideoDecoder}'' will be in use).
@@ -147,6 +149,16 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	@Size(max = 256)
 	public String drm;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AVStream() {
 	}
 
@@ -181,6 +193,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -198,6 +211,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVStream withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -219,6 +233,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -230,6 +246,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVStream withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -251,6 +269,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -262,6 +282,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AVStream withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -287,6 +309,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setPvrState(String pvrState) {
 		this.pvrState = pvrState;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -300,6 +323,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withPvrState(String pvrState) {
 		this.pvrState = pvrState;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -325,6 +349,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setFrontEnd(String frontEnd) {
 		this.frontEnd = frontEnd;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -338,6 +363,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withFrontEnd(String frontEnd) {
 		this.frontEnd = frontEnd;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -363,6 +389,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setInbound(String inbound) {
 		this.inbound = inbound;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -376,6 +403,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withInbound(String inbound) {
 		this.inbound = inbound;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -401,6 +429,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setOutbound(String outbound) {
 		this.outbound = outbound;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -414,6 +443,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withOutbound(String outbound) {
 		this.outbound = outbound;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -439,6 +469,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setAudioDecoder(String audioDecoder) {
 		this.audioDecoder = audioDecoder;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -452,6 +483,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withAudioDecoder(String audioDecoder) {
 		this.audioDecoder = audioDecoder;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -477,6 +509,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setVideoDecoder(String videoDecoder) {
 		this.videoDecoder = videoDecoder;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -490,6 +523,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withVideoDecoder(String videoDecoder) {
 		this.videoDecoder = videoDecoder;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -515,6 +549,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setCa(String ca) {
 		this.ca = ca;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -528,6 +563,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withCa(String ca) {
 		this.ca = ca;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -553,6 +589,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public void  setDrm(String drm) {
 		this.drm = drm;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -566,6 +603,7 @@ PVR record state can be inferred from whether the stream has an input FrontEnd:
 	 */
 	public AVStream withDrm(String drm) {
 		this.drm = drm;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object describes the capabilities of the {{object|.Applications.AudienceStats}} object.
@@ -45,6 +46,11 @@ A value of -1 indicates no specific limit on the number of channels.
 	@Size(min = -1)
 	public Integer maxAudienceStatsChannels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AudienceStats() {
 	}
 
@@ -71,6 +77,7 @@ A value of -1 indicates no specific limit on the number of channels.
 	 */
 	public void  setMaxAudienceStatsChannels(Integer maxAudienceStatsChannels) {
 		this.maxAudienceStatsChannels = maxAudienceStatsChannels;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +91,7 @@ A value of -1 indicates no specific limit on the number of channels.
 	 */
 	public AudienceStats withMaxAudienceStatsChannels(Integer maxAudienceStatsChannels) {
 		this.maxAudienceStatsChannels = maxAudienceStatsChannels;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
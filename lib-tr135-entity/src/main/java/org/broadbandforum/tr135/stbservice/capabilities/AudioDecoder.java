@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Audio decoder capabilities.
@@ -45,6 +47,11 @@ public class AudioDecoder {
 	@XmlList
 	public Collection<String> audioStandards;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AudioDecoder() {
 	}
 
@@ -60,6 +67,17 @@ public class AudioDecoder {
 		return audioStandards;
 	}
 
+	/**
+	 * Get audio standards supported by this STB.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAudioStandards() {
+		return audioStandards == null ? Collections.emptyList() : audioStandards;
+	}
+
 	/**
 	 * Set audio standards supported by this STB.
 	 *
@@ -68,6 +86,7 @@ public class AudioDecoder {
 	 */
 	public void  setAudioStandards(Collection<String> audioStandards) {
 		this.audioStandards = audioStandards;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -79,6 +98,7 @@ public class AudioDecoder {
 	 */
 	public AudioDecoder withAudioStandards(String string) {
 		getAudioStandards().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
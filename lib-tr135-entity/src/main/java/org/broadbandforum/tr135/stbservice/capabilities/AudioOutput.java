@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Audio output capabilities. The audio output stage may include selecting output formats, selecting output connectors, and copy protection.
@@ -49,6 +51,11 @@ Note that these refer to supported output formats and not to physical connectors
 	@XmlList
 	public Collection<String> audioFormats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AudioOutput() {
 	}
 
@@ -68,6 +75,21 @@ Note that these refer to supported output formats and not to physical connectors
 		return audioFormats;
 	}
 
+	/**
+	 * Read the supported audio output formats.  
+
+Enumerated value must be one of [ANALOG-MONO, ANALOG-2-CHANNELS, ANALOG-5.1-CHANNELS, DIGITAL-OPTICAL-SP/DIF, DIGITAL-COAXIAL-SP/DIF, HDMI, RF]
+
+Note that these refer to supported output formats and not to physical connectors.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAudioFormats() {
+		return audioFormats == null ? Collections.emptyList() : audioFormats;
+	}
+
 	/**
 	 * Set the supported audio output formats.  
 
@@ -80,6 +102,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public void  setAudioFormats(Collection<String> audioFormats) {
 		this.audioFormats = audioFormats;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +118,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public AudioOutput withAudioFormats(String string) {
 		getAudioFormats().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object describes the characteristics of the Conditional Access, if any.
@@ -47,6 +49,11 @@ public class CA {
 	@XmlList
 	public Collection<String> casystems;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CA() {
 	}
 
@@ -62,6 +69,17 @@ public class CA {
 		return casystems;
 	}
 
+	/**
+	 * Read the unique identifiers (e.g. commercial names) of supported CA systems.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCasystems() {
+		return casystems == null ? Collections.emptyList() : casystems;
+	}
+
 	/**
 	 * Set the unique identifiers (e.g. commercial names) of supported CA systems.
 	 *
@@ -70,6 +88,7 @@ public class CA {
 	 */
 	public void  setCasystems(Collection<String> casystems) {
 		this.casystems = casystems;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -81,6 +100,7 @@ public class CA {
 	 */
 	public CA withCasystems(String string) {
 		getCasystems().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object describes the characteristics of the Content Download System, if any.
@@ -48,6 +49,11 @@ public class CDS {
 	@XmlElement(name = "PullCapable")
 	public Boolean pullCapable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDS() {
 	}
 
@@ -70,6 +76,7 @@ public class CDS {
 	 */
 	public void  setPushCapable(Boolean pushCapable) {
 		this.pushCapable = pushCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -81,6 +88,7 @@ public class CDS {
 	 */
 	public CDS withPushCapable(Boolean pushCapable) {
 		this.pushCapable = pushCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -102,6 +110,7 @@ public class CDS {
 	 */
 	public void  setPullCapable(Boolean pullCapable) {
 		this.pullCapable = pullCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -113,6 +122,7 @@ public class CDS {
 	 */
 	public CDS withPullCapable(Boolean pullCapable) {
 		this.pullCapable = pullCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object describes the characteristics of the Digital Rights Management, if any.
@@ -47,6 +49,11 @@ public class DRM {
 	@XmlList
 	public Collection<String> drmSystems;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DRM() {
 	}
 
@@ -62,6 +69,17 @@ public class DRM {
 		return drmSystems;
 	}
 
+	/**
+	 * Read the unique identifiers (e.g. commercial names) of supported DRM systems.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDrmSystems() {
+		return drmSystems == null ? Collections.emptyList() : drmSystems;
+	}
+
 	/**
 	 * Set the unique identifiers (e.g. commercial names) of supported DRM systems.
 	 *
@@ -70,6 +88,7 @@ public class DRM {
 	 */
 	public void  setDrmSystems(Collection<String> drmSystems) {
 		this.drmSystems = drmSystems;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -81,6 +100,7 @@ public class DRM {
 	 */
 	public DRM withDrmSystems(String string) {
 		getDrmSystems().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
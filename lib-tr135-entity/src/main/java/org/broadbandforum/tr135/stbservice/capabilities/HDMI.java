@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object describes the characteristics of the HDMI interface, if any.
@@ -61,6 +63,11 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 	@XmlElement(name = "HDMI3D")
 	public Boolean hdmI3D;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HDMI() {
 	}
 
@@ -78,6 +85,19 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 		return supportedResolutions;
 	}
 
+	/**
+	 * Read the video resolutions supported for the HDMI video output. 
+
+Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz, 720x480p/60Hz, 720(1440)x480i/60Hz, 1280x720p/50Hz, 1920x1080i/50Hz, 720x576p/50Hz, 720(1440)x240p/60Hz, 2880x480i/60Hz, 2880x240p/60Hz, 1440x480p/60Hz, 1920x1080p/60Hz, 720(1440)x288p/50Hz, 2880x576i/50Hz, 2880x288p/50Hz, 1440x576p/50Hz, 1920x1080p/50Hz, 1920x1080p/24Hz, 1920x1080p/25Hz, 1920x1080p/30Hz, 2880x480p/60Hz, 2880x576p/50Hz, 1920x1080i (1250 total)/50Hz, 720(1440)x480i/120Hz, 720x480p/120Hz, 1920x1080i/120Hz, 1280x720p/120Hz, 720(1440)x480i/240Hz, 720x480p/240Hz, 720(1440)x576i/100Hz, 720x576p/100Hz, 1920x1080i/100Hz, 1280x720p/100Hz, 720(1440)x576i/200Hz, 720x576p/200Hz, 1280x720p/24Hz, 1280x720p/25Hz, 1280x720p/30Hz, 1920x1080p/120Hz, 1920x1080p/100Hz]
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedResolutions() {
+		return supportedResolutions == null ? Collections.emptyList() : supportedResolutions;
+	}
+
 	/**
 	 * Set the video resolutions supported for the HDMI video output. 
 
@@ -88,6 +108,7 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 	 */
 	public void  setSupportedResolutions(Collection<String> supportedResolutions) {
 		this.supportedResolutions = supportedResolutions;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -101,6 +122,7 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 	 */
 	public HDMI withSupportedResolutions(String string) {
 		getSupportedResolutions().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,6 +144,7 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 	 */
 	public void  setCecSupport(Boolean cecSupport) {
 		this.cecSupport = cecSupport;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -133,6 +156,7 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 	 */
 	public HDMI withCecSupport(Boolean cecSupport) {
 		this.cecSupport = cecSupport;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -154,6 +178,7 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 	 */
 	public void  setHdmI3D(Boolean hdmI3D) {
 		this.hdmI3D = hdmI3D;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -165,6 +190,7 @@ Enumerated value must be one of [640x480p/60Hz, 1280x720p/60Hz, 1920x1080i/60Hz,
 	 */
 	public HDMI withHdmI3D(Boolean hdmI3D) {
 		this.hdmI3D = hdmI3D;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
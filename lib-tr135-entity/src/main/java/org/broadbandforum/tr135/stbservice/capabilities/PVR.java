@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * PVR capabilities.
@@ -75,6 +76,11 @@ A value of -1 indicates no specific limit on the time delay.
 	@Size(min = -1)
 	public Integer maxTimeDelay;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PVR() {
 	}
 
@@ -101,6 +107,7 @@ A value of -1 indicates no specific limit on the number of streams.
 	 */
 	public void  setMaxIOStreams(Integer maxIOStreams) {
 		this.maxIOStreams = maxIOStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -114,6 +121,7 @@ A value of -1 indicates no specific limit on the number of streams.
 	 */
 	public PVR withMaxIOStreams(Integer maxIOStreams) {
 		this.maxIOStreams = maxIOStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -139,6 +147,7 @@ A value of -1 indicates no specific limit on the number of streams.
 	 */
 	public void  setMaxRecordingStreams(Integer maxRecordingStreams) {
 		this.maxRecordingStreams = maxRecordingStreams;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -152,6 +161,7 @@ A value of -1 indicates no specific limit on the number of streams.
 	 */
 	public PVR withMaxRecordingStreams(Integer maxRecordingStreams) {
 		this.maxRecordingStreams = maxRecordingStreams;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -177,6 +187,7 @@ A value of -1 indicates no specific limit on the number of streams.
 	 */
 	public void  setMaxPlaybackStreams(Integer maxPlaybackStreams) {
 		this.maxPlaybackStreams = maxPlaybackStreams;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +201,7 @@ A value of -1 indicates no specific limit on the number of streams.
 	 */
 	public PVR withMaxPlaybackStreams(Integer maxPlaybackStreams) {
 		this.maxPlaybackStreams = maxPlaybackStreams;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -215,6 +227,7 @@ A value of -1 indicates no specific limit on the time delay.
 	 */
 	public void  setMaxTimeDelay(Integer maxTimeDelay) {
 		this.maxTimeDelay = maxTimeDelay;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -228,6 +241,7 @@ A value of -1 indicates no specific limit on the time delay.
 	 */
 	public PVR withMaxTimeDelay(Integer maxTimeDelay) {
 		this.maxTimeDelay = maxTimeDelay;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object describes the capabilities of the {{object|.ServiceMonitoring}} object.
@@ -108,6 +110,11 @@ A value of -1 indicates no specific maximum number of samples.
 	@XmlElement(name = "MaxMainStreamEventLogEntries")
 	public Long maxMainStreamEventLogEntries;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ServiceMonitoring() {
 	}
 
@@ -127,6 +134,21 @@ Note that none of the standard service types cover LAN-sourced IP streams.
 		return serviceTypes;
 	}
 
+	/**
+	 * Read the supported service types, each of which relates to an AV stream source.  
+
+Enumerated value must be one of [IPTV, VoD, IP, TEST, IP-All, CAB, DTT, SAT, PVR]
+
+Note that none of the standard service types cover LAN-sourced IP streams.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewServiceTypes() {
+		return serviceTypes == null ? Collections.emptyList() : serviceTypes;
+	}
+
 	/**
 	 * Set the supported service types, each of which relates to an AV stream source.  
 
@@ -139,6 +161,7 @@ Note that none of the standard service types cover LAN-sourced IP streams.
 	 */
 	public void  setServiceTypes(Collection<String> serviceTypes) {
 		this.serviceTypes = serviceTypes;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -154,6 +177,7 @@ Note that none of the standard service types cover LAN-sourced IP streams.
 	 */
 	public ServiceMonitoring withServiceTypes(String string) {
 		getServiceTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -179,6 +203,7 @@ A value of -1 indicates no specific maximum number of events.
 	 */
 	public void  setMaxEventsPerSampleInterval(Integer maxEventsPerSampleInterval) {
 		this.maxEventsPerSampleInterval = maxEventsPerSampleInterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -192,6 +217,7 @@ A value of -1 indicates no specific maximum number of events.
 	 */
 	public ServiceMonitoring withMaxEventsPerSampleInterval(Integer maxEventsPerSampleInterval) {
 		this.maxEventsPerSampleInterval = maxEventsPerSampleInterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -217,6 +243,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setMaxActiveMainStreams(Integer maxActiveMainStreams) {
 		this.maxActiveMainStreams = maxActiveMainStreams;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -230,6 +257,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public ServiceMonitoring withMaxActiveMainStreams(Integer maxActiveMainStreams) {
 		this.maxActiveMainStreams = maxActiveMainStreams;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -255,6 +283,7 @@ A value of -1 indicates no specific minimum sample interval.
 	 */
 	public void  setMinSampleInterval(Integer minSampleInterval) {
 		this.minSampleInterval = minSampleInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -268,6 +297,7 @@ A value of -1 indicates no specific minimum sample interval.
 	 */
 	public ServiceMonitoring withMinSampleInterval(Integer minSampleInterval) {
 		this.minSampleInterval = minSampleInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -293,6 +323,7 @@ A value of -1 indicates no specific maximum number of samples.
 	 */
 	public void  setMaxReportSamples(Integer maxReportSamples) {
 		this.maxReportSamples = maxReportSamples;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -306,6 +337,7 @@ A value of -1 indicates no specific maximum number of samples.
 	 */
 	public ServiceMonitoring withMaxReportSamples(Integer maxReportSamples) {
 		this.maxReportSamples = maxReportSamples;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -322,6 +354,19 @@ A value of -1 indicates no specific maximum number of samples.
 		return highLevelMetricNames;
 	}
 
+	/**
+	 * Read the names of the supported high-level metrics. If a metric produces several different scores (e.g. an audio, a video, and an audiovisual score), then they MUST be explicitly named.  Example (using "XYZ" as the name of the base metric):
+
+"XYZAudio,XYZVideo,XYZAudiovisual".
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHighLevelMetricNames() {
+		return highLevelMetricNames == null ? Collections.emptyList() : highLevelMetricNames;
+	}
+
 	/**
 	 * Set the names of the supported high-level metrics. If a metric produces several different scores (e.g. an audio, a video, and an audiovisual score), then they MUST be explicitly named.  Example (using "XYZ" as the name of the base metric):
 
@@ -332,6 +377,7 @@ A value of -1 indicates no specific maximum number of samples.
 	 */
 	public void  setHighLevelMetricNames(Collection<String> highLevelMetricNames) {
 		this.highLevelMetricNames = highLevelMetricNames;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -345,6 +391,7 @@ A value of -1 indicates no specific maximum number of samples.
 	 */
 	public ServiceMonitoring withHighLevelMetricNames(String string) {
 		getHighLevelMetricNames().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -366,6 +413,7 @@ A value of -1 indicates no specific maximum number of samples.
 	 */
 	public void  setMaxMainStreamEventLogEntries(Long maxMainStreamEventLogEntries) {
 		this.maxMainStreamEventLogEntries = maxMainStreamEventLogEntries;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -377,6 +425,7 @@ A value of -1 indicates no specific maximum number of samples.
 	 */
 	public ServiceMonitoring withMaxMainStreamEventLogEntries(Long maxMainStreamEventLogEntries) {
 		this.maxMainStreamEventLogEntries = maxMainStreamEventLogEntries;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr135.stbservice.capabilities.videodecoder.MPEG2Part2;
 import org.broadbandforum.tr135.stbservice.capabilities.videodecoder.MPEG4Part10;
 import org.broadbandforum.tr135.stbservice.capabilities.videodecoder.MPEG4Part2;
@@ -69,6 +71,11 @@ public class VideoDecoder {
 	@XmlElement(name = "SMPTEVC1")
 	public SMPTEVC1 smpTEVC1;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VideoDecoder() {
 	}
 
@@ -84,6 +91,17 @@ public class VideoDecoder {
 		return videoStandards;
 	}
 
+	/**
+	 * Read the video standards supported by this STB.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVideoStandards() {
+		return videoStandards == null ? Collections.emptyList() : videoStandards;
+	}
+
 	/**
 	 * Set the video standards supported by this STB.
 	 *
@@ -92,6 +110,7 @@ public class VideoDecoder {
 	 */
 	public void  setVideoStandards(Collection<String> videoStandards) {
 		this.videoStandards = videoStandards;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -103,6 +122,7 @@ public class VideoDecoder {
 	 */
 	public VideoDecoder withVideoStandards(String string) {
 		getVideoStandards().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Video output capabilities. The video output stage may include selecting output formats, selecting output connectors, and copy protection.
@@ -82,6 +84,11 @@ Note that these refer to supported output formats and not to physical connectors
 	@XmlList
 	public Collection<String> displayFormats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VideoOutput() {
 	}
 
@@ -97,6 +104,17 @@ Note that these refer to supported output formats and not to physical connectors
 		return compositeVideoStandards;
 	}
 
+	/**
+	 * Get analog composite video standards supported for video output.  This applies only to CVBS video output.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCompositeVideoStandards() {
+		return compositeVideoStandards == null ? Collections.emptyList() : compositeVideoStandards;
+	}
+
 	/**
 	 * Set analog composite video standards supported for video output.  This applies only to CVBS video output.
 	 *
@@ -105,6 +123,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public void  setCompositeVideoStandards(Collection<String> compositeVideoStandards) {
 		this.compositeVideoStandards = compositeVideoStandards;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -116,6 +135,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public VideoOutput withCompositeVideoStandards(String string) {
 		getCompositeVideoStandards().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -134,6 +154,21 @@ Note that these refer to supported output formats and not to physical connectors
 		return videoFormats;
 	}
 
+	/**
+	 * Read the supported video output formats.  
+
+Enumerated value must be one of [CVBS, S-Video, YPrPb, RGsB, RGB, HDMI, DVI, RF]
+
+Note that these refer to supported output formats and not to physical connectors.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVideoFormats() {
+		return videoFormats == null ? Collections.emptyList() : videoFormats;
+	}
+
 	/**
 	 * Set the supported video output formats.  
 
@@ -146,6 +181,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public void  setVideoFormats(Collection<String> videoFormats) {
 		this.videoFormats = videoFormats;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -161,6 +197,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public VideoOutput withVideoFormats(String string) {
 		getVideoFormats().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -182,6 +219,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public void  setMacrovision(String macrovision) {
 		this.macrovision = macrovision;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -193,6 +231,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public VideoOutput withMacrovision(String macrovision) {
 		this.macrovision = macrovision;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -214,6 +253,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public void  setHdcP(String hdcP) {
 		this.hdcP = hdcP;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -225,6 +265,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public VideoOutput withHdcP(String hdcP) {
 		this.hdcP = hdcP;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -239,6 +280,17 @@ Note that these refer to supported output formats and not to physical connectors
 		return displayFormats;
 	}
 
+	/**
+	 * Read the each entry is a supported display format and MUST be in the form of “x:y”, such as for example “4:3, 16:9, 14:9". {{nopattern}}
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDisplayFormats() {
+		return displayFormats == null ? Collections.emptyList() : displayFormats;
+	}
+
 	/**
 	 * Set the each entry is a supported display format and MUST be in the form of “x:y”, such as for example “4:3, 16:9, 14:9". {{nopattern}}
 	 *
@@ -247,6 +299,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public void  setDisplayFormats(Collection<String> displayFormats) {
 		this.displayFormats = displayFormats;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -258,6 +311,7 @@ Note that these refer to supported output formats and not to physical connectors
 	 */
 	public VideoOutput withDisplayFormats(String string) {
 		getDisplayFormats().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
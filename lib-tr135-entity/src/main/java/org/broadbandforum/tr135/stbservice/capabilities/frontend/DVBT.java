@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Capabilities of the DVB-T receiver.
@@ -55,6 +56,11 @@ A value of -1 indicates no specific limit on the number of logical channels.
 	@Size(min = -1)
 	public Integer maxLogicalChannels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DVBT() {
 	}
 
@@ -81,6 +87,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setMaxActiveDVBTStreams(Integer maxActiveDVBTStreams) {
 		this.maxActiveDVBTStreams = maxActiveDVBTStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -94,6 +101,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public DVBT withMaxActiveDVBTStreams(Integer maxActiveDVBTStreams) {
 		this.maxActiveDVBTStreams = maxActiveDVBTStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -119,6 +127,7 @@ A value of -1 indicates no specific limit on the number of logical channels.
 	 */
 	public void  setMaxLogicalChannels(Integer maxLogicalChannels) {
 		this.maxLogicalChannels = maxLogicalChannels;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +141,7 @@ A value of -1 indicates no specific limit on the number of logical channels.
 	 */
 	public DVBT withMaxLogicalChannels(Integer maxLogicalChannels) {
 		this.maxLogicalChannels = maxLogicalChannels;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
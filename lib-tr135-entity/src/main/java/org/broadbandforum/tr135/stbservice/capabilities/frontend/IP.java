@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities.frontend;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * IP front-end capabilities.
@@ -118,6 +120,11 @@ A value of -1 indicates no specific limit on the buffer size.
 	@Size(min = -1)
 	public Integer maxDejitteringBufferSize;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IP() {
 	}
 
@@ -144,6 +151,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setMaxActiveIPStreams(Integer maxActiveIPStreams) {
 		this.maxActiveIPStreams = maxActiveIPStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -157,6 +165,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withMaxActiveIPStreams(Integer maxActiveIPStreams) {
 		this.maxActiveIPStreams = maxActiveIPStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -182,6 +191,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setMaxActiveInboundIPStreams(Integer maxActiveInboundIPStreams) {
 		this.maxActiveInboundIPStreams = maxActiveInboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -195,6 +205,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withMaxActiveInboundIPStreams(Integer maxActiveInboundIPStreams) {
 		this.maxActiveInboundIPStreams = maxActiveInboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -220,6 +231,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setMaxActiveOutboundIPStreams(Integer maxActiveOutboundIPStreams) {
 		this.maxActiveOutboundIPStreams = maxActiveOutboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -233,6 +245,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withMaxActiveOutboundIPStreams(Integer maxActiveOutboundIPStreams) {
 		this.maxActiveOutboundIPStreams = maxActiveOutboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -247,6 +260,17 @@ A value of -1 indicates no specific limit on the number of active streams.
 		return streamingControlProtocols;
 	}
 
+	/**
+	 * Read the supported streaming control protocols.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewStreamingControlProtocols() {
+		return streamingControlProtocols == null ? Collections.emptyList() : streamingControlProtocols;
+	}
+
 	/**
 	 * Set the supported streaming control protocols.
 	 *
@@ -255,6 +279,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setStreamingControlProtocols(Collection<String> streamingControlProtocols) {
 		this.streamingControlProtocols = streamingControlProtocols;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -266,6 +291,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withStreamingControlProtocols(String string) {
 		getStreamingControlProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -280,6 +306,17 @@ A value of -1 indicates no specific limit on the number of active streams.
 		return streamingTransportProtocols;
 	}
 
+	/**
+	 * Read the network protocols supported for AV streaming.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewStreamingTransportProtocols() {
+		return streamingTransportProtocols == null ? Collections.emptyList() : streamingTransportProtocols;
+	}
+
 	/**
 	 * Set the network protocols supported for AV streaming.
 	 *
@@ -288,6 +325,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setStreamingTransportProtocols(Collection<String> streamingTransportProtocols) {
 		this.streamingTransportProtocols = streamingTransportProtocols;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -299,6 +337,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withStreamingTransportProtocols(String string) {
 		getStreamingTransportProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -313,6 +352,17 @@ A value of -1 indicates no specific limit on the number of active streams.
 		return streamingTransportControlProtocols;
 	}
 
+	/**
+	 * Read the transport control protocols supported for AV streaming in combination with RTP.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewStreamingTransportControlProtocols() {
+		return streamingTransportControlProtocols == null ? Collections.emptyList() : streamingTransportControlProtocols;
+	}
+
 	/**
 	 * Set the transport control protocols supported for AV streaming in combination with RTP.
 	 *
@@ -321,6 +371,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setStreamingTransportControlProtocols(Collection<String> streamingTransportControlProtocols) {
 		this.streamingTransportControlProtocols = streamingTransportControlProtocols;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -332,6 +383,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withStreamingTransportControlProtocols(String string) {
 		getStreamingTransportControlProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -346,6 +398,17 @@ A value of -1 indicates no specific limit on the number of active streams.
 		return downloadTransportProtocols;
 	}
 
+	/**
+	 * Read the network protocols supported for AV download.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDownloadTransportProtocols() {
+		return downloadTransportProtocols == null ? Collections.emptyList() : downloadTransportProtocols;
+	}
+
 	/**
 	 * Set the network protocols supported for AV download.
 	 *
@@ -354,6 +417,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setDownloadTransportProtocols(Collection<String> downloadTransportProtocols) {
 		this.downloadTransportProtocols = downloadTransportProtocols;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -365,6 +429,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withDownloadTransportProtocols(String string) {
 		getDownloadTransportProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -379,6 +444,17 @@ A value of -1 indicates no specific limit on the number of active streams.
 		return multiplexTypes;
 	}
 
+	/**
+	 * Get av multiplex types supported by the front end.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewMultiplexTypes() {
+		return multiplexTypes == null ? Collections.emptyList() : multiplexTypes;
+	}
+
 	/**
 	 * Set av multiplex types supported by the front end.
 	 *
@@ -387,6 +463,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public void  setMultiplexTypes(Collection<String> multiplexTypes) {
 		this.multiplexTypes = multiplexTypes;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -398,6 +475,7 @@ A value of -1 indicates no specific limit on the number of active streams.
 	 */
 	public IP withMultiplexTypes(String string) {
 		getMultiplexTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -423,6 +501,7 @@ A value of -1 indicates no specific limit on the buffer size.
 	 */
 	public void  setMaxDejitteringBufferSize(Integer maxDejitteringBufferSize) {
 		this.maxDejitteringBufferSize = maxDejitteringBufferSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -436,6 +515,7 @@ A value of -1 indicates no specific limit on the buffer size.
 	 */
 	public IP withMaxDejitteringBufferSize(Integer maxDejitteringBufferSize) {
 		this.maxDejitteringBufferSize = maxDejitteringBufferSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
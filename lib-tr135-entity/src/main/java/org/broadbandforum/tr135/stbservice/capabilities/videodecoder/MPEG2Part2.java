@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities.videodecoder;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,8 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.capabilities.videodecoder.mpeg2part2.ProfileLevel;
 
 	/**
@@ -55,6 +58,11 @@ public class MPEG2Part2 {
 	@XmlElement(name = "ProfileLevel")
 	public Collection<ProfileLevel> profileLevels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MPEG2Part2() {
 	}
 
@@ -70,6 +78,17 @@ public class MPEG2Part2 {
 		return audioStandards;
 	}
 
+	/**
+	 * Get audio Standards supported by the Player when associated with MPEG2 Part 2 Video.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAudioStandards() {
+		return audioStandards == null ? Collections.emptyList() : audioStandards;
+	}
+
 	/**
 	 * Set audio Standards supported by the Player when associated with MPEG2 Part 2 Video.
 	 *
@@ -78,6 +97,7 @@ public class MPEG2Part2 {
 	 */
 	public void  setAudioStandards(Collection<String> audioStandards) {
 		this.audioStandards = audioStandards;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -89,6 +109,7 @@ public class MPEG2Part2 {
 	 */
 	public MPEG2Part2 withAudioStandards(String string) {
 		getAudioStandards().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -100,10 +121,22 @@ public class MPEG2Part2 {
 	 * @return the value
 	 */
 	public Collection<ProfileLevel> getProfileLevels() {
-		if (this.profileLevels == null){ this.profileLevels=new ArrayList<>();}
+		if (!(this.profileLevels instanceof InstanceTable)){ this.profileLevels=InstanceTable.of(this.profileLevels);}
 		return profileLevels;
 	}
 
+	/**
+	 * Read the table to describe the set of profiles and levels combinations supported by the STB when MPEG2 Part 2 is used as video standard.
+
+{{keys}}  The table MUST include a distinct entry for each supported combination of these parameters.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ProfileLevel> viewProfileLevels() {
+		return profileLevels == null ? Collections.emptyList() : profileLevels;
+	}
+
 	/**
 	 * Set the table to describe the set of profiles and levels combinations supported by the STB when MPEG2 Part 2 is used as video standard.
 
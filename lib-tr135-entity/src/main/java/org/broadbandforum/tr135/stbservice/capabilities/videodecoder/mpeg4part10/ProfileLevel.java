@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.capabilities.videodecoder.mpeg4part1
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table to describe the set of profiles and levels combinations supported by the STB when MPEG4 Part 10 is used as video standard.
@@ -74,6 +77,16 @@ public class ProfileLevel {
 	@XmlElement(name = "MaximumDecodingCapability")
 	public Long maximumDecodingCapability;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ProfileLevel() {
 	}
 
@@ -96,6 +109,8 @@ public class ProfileLevel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -107,6 +122,8 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -121,6 +138,17 @@ public class ProfileLevel {
 		return profile;
 	}
 
+	/**
+	 * Read the supported MPEG4 Part 10 profiles.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewProfile() {
+		return profile == null ? Collections.emptyList() : profile;
+	}
+
 	/**
 	 * Set the supported MPEG4 Part 10 profiles.
 	 *
@@ -129,6 +157,8 @@ public class ProfileLevel {
 	 */
 	public void  setProfile(Collection<String> profile) {
 		this.profile = profile;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -140,6 +170,8 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withProfile(String string) {
 		getProfile().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -154,6 +186,17 @@ public class ProfileLevel {
 		return level;
 	}
 
+	/**
+	 * Read the supported MPEG4 Part 10 Levels.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLevel() {
+		return level == null ? Collections.emptyList() : level;
+	}
+
 	/**
 	 * Set the supported MPEG4 Part 10 Levels.
 	 *
@@ -162,6 +205,8 @@ public class ProfileLevel {
 	 */
 	public void  setLevel(Collection<String> level) {
 		this.level = level;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -173,6 +218,8 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withLevel(String string) {
 		getLevel().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -194,6 +241,7 @@ public class ProfileLevel {
 	 */
 	public void  setMaximumDecodingCapability(Long maximumDecodingCapability) {
 		this.maximumDecodingCapability = maximumDecodingCapability;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -205,6 +253,7 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withMaximumDecodingCapability(Long maximumDecodingCapability) {
 		this.maximumDecodingCapability = maximumDecodingCapability;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table to describe the set of profiles and levels combinations supported by the STB when MPEG4 Part 2 is used as video standard.
@@ -69,6 +71,16 @@ public class ProfileLevel {
 	@XmlElement(name = "MaximumDecodingCapability")
 	public Long maximumDecodingCapability;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ProfileLevel() {
 	}
 
@@ -91,6 +103,8 @@ public class ProfileLevel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -102,6 +116,8 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -123,6 +139,8 @@ public class ProfileLevel {
 	 */
 	public void  setProfile(String profile) {
 		this.profile = profile;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -134,6 +152,8 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withProfile(String profile) {
 		this.profile = profile;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -155,6 +175,8 @@ public class ProfileLevel {
 	 */
 	public void  setLevel(String level) {
 		this.level = level;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -166,6 +188,8 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withLevel(String level) {
 		this.level = level;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -187,6 +211,7 @@ public class ProfileLevel {
 	 */
 	public void  setMaximumDecodingCapability(Long maximumDecodingCapability) {
 		this.maximumDecodingCapability = maximumDecodingCapability;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -198,6 +223,7 @@ public class ProfileLevel {
 	 */
 	public ProfileLevel withMaximumDecodingCapability(Long maximumDecodingCapability) {
 		this.maximumDecodingCapability = maximumDecodingCapability;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
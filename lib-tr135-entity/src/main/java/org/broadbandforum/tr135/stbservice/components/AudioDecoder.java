@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Audio decoder instance table. It contains data representing the current status of the Audio decoder.
@@ -79,6 +81,16 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@XmlElement(name = "AudioStandard")
 	public String audioStandard;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AudioDecoder() {
 	}
 
@@ -101,6 +113,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +125,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioDecoder withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -137,6 +151,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -150,6 +165,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioDecoder withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -171,6 +187,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -182,6 +200,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioDecoder withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -203,6 +223,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -214,6 +236,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioDecoder withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -235,6 +259,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAudioStandard(String audioStandard) {
 		this.audioStandard = audioStandard;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -246,6 +271,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioDecoder withAudioStandard(String audioStandard) {
 		this.audioStandard = audioStandard;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
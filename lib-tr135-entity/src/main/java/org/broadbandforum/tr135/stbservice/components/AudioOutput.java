@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.components;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Audio output instance table.
@@ -116,6 +119,16 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	@XmlList
 	public Collection<String> scaRTs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AudioOutput() {
 	}
 
@@ -138,6 +151,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -149,6 +163,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public AudioOutput withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -174,6 +189,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -187,6 +203,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioOutput withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -208,6 +225,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -219,6 +238,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioOutput withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -240,6 +261,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -251,6 +274,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public AudioOutput withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -276,6 +301,7 @@ Note that this parameter refers to output formats and not to physical connectors
 	 */
 	public void  setAudioFormat(String audioFormat) {
 		this.audioFormat = audioFormat;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -289,6 +315,7 @@ Note that this parameter refers to output formats and not to physical connectors
 	 */
 	public AudioOutput withAudioFormat(String audioFormat) {
 		this.audioFormat = audioFormat;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +341,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public void  setAudioLevel(Long audioLevel) {
 		this.audioLevel = audioLevel;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -327,6 +355,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public AudioOutput withAudioLevel(Long audioLevel) {
 		this.audioLevel = audioLevel;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -348,6 +377,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public void  setCancelMute(Boolean cancelMute) {
 		this.cancelMute = cancelMute;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -359,6 +389,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public AudioOutput withCancelMute(Boolean cancelMute) {
 		this.cancelMute = cancelMute;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -377,6 +408,21 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 		return scaRTs;
 	}
 
+	/**
+	 * Read the scaRT object instances associated with this audio output, or {{empty}} if not associated with any SCART object instances.  For example:
+
+* ''.Components.SCART.2''
+
+* ''.Components.SCART.2,.Components.SCART.3''
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewScaRTs() {
+		return scaRTs == null ? Collections.emptyList() : scaRTs;
+	}
+
 	/**
 	 * Set the scaRT object instances associated with this audio output, or {{empty}} if not associated with any SCART object instances.  For example:
 
@@ -389,6 +435,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public void  setScaRTs(Collection<String> scaRTs) {
 		this.scaRTs = scaRTs;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -404,6 +451,7 @@ For some audio formats, the audio level is not meaningful, in which case this pa
 	 */
 	public AudioOutput withScaRTs(String string) {
 		getScaRTs().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object describes the characteristics of the Conditional Access, if any.
@@ -84,6 +86,16 @@ The value MUST be {{empty}} (if not associated with a smart card) or else be the
 	@Size(max = 256)
 	public String smartCardReader;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CA() {
 	}
 
@@ -106,6 +118,7 @@ The value MUST be {{empty}} (if not associated with a smart card) or else be the
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -117,6 +130,7 @@ The value MUST be {{empty}} (if not associated with a smart card) or else be the
 	 */
 	public CA withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -142,6 +156,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -155,6 +170,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public CA withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -176,6 +192,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -187,6 +205,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public CA withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -208,6 +228,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -219,6 +241,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public CA withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -248,6 +272,7 @@ The value MUST be {{empty}} (if not associated with a smart card) or else be the
 	 */
 	public void  setSmartCardReader(String smartCardReader) {
 		this.smartCardReader = smartCardReader;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -263,6 +288,7 @@ The value MUST be {{empty}} (if not associated with a smart card) or else be the
 	 */
 	public CA withSmartCardReader(String smartCardReader) {
 		this.smartCardReader = smartCardReader;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
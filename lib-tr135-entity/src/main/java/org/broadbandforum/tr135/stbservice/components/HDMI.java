@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.hdmi.DisplayDevice;
 
 	/**
@@ -102,6 +104,16 @@ A read action provides the current resolution of the HDMI output.
 	@XmlElement(name = "DisplayDevice")
 	public DisplayDevice displayDevice;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public HDMI() {
 	}
 
@@ -124,6 +136,7 @@ A read action provides the current resolution of the HDMI output.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +148,7 @@ A read action provides the current resolution of the HDMI output.
 	 */
 	public HDMI withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -160,6 +174,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -173,6 +188,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HDMI withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -194,6 +210,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +223,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HDMI withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -226,6 +246,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -237,6 +259,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HDMI withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -266,6 +290,7 @@ In {{enum|Manual}} mode, the resolution to be applied to the HDMI output is give
 	 */
 	public void  setResolutionMode(String resolutionMode) {
 		this.resolutionMode = resolutionMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -281,6 +306,7 @@ In {{enum|Manual}} mode, the resolution to be applied to the HDMI output is give
 	 */
 	public HDMI withResolutionMode(String resolutionMode) {
 		this.resolutionMode = resolutionMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -310,6 +336,7 @@ A read action provides the current resolution of the HDMI output.
 	 */
 	public void  setResolutionValue(String resolutionValue) {
 		this.resolutionValue = resolutionValue;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +352,7 @@ A read action provides the current resolution of the HDMI output.
 	 */
 	public HDMI withResolutionValue(String resolutionValue) {
 		this.resolutionValue = resolutionValue;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
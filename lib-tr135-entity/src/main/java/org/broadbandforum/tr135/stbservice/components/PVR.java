@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.components;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.pvr.Storage;
 
 	/**
@@ -54,10 +55,20 @@ public class PVR {
 	 * @return the value
 	 */
 	public Collection<Storage> getStorages() {
-		if (this.storages == null){ this.storages=new ArrayList<>();}
+		if (!(this.storages instanceof InstanceTable)){ this.storages=InstanceTable.of(this.storages);}
 		return storages;
 	}
 
+	/**
+	 * Read the pvr storage table. There MUST be an instance for each storage object that can be accessed by the PVR. Entries MAY be dynamically created and deleted as storage devices become available and unavailable.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Storage> viewStorages() {
+		return storages == null ? Collections.emptyList() : storages;
+	}
+
 	/**
 	 * Set the pvr storage table. There MUST be an instance for each storage object that can be accessed by the PVR. Entries MAY be dynamically created and deleted as storage devices become available and unavailable.
 	 *
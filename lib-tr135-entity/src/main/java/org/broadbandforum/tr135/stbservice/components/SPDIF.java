@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * S/PDIF output instance table configuration. This object, if present, is connected to the audio ouput instance currently delivering S/PDIF audio format as described in {{bibref|SPDIF}}.
@@ -96,6 +98,16 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	@XmlElement(name = "AudioDelay")
 	public Long audioDelay;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SPDIF() {
 	}
 
@@ -118,6 +130,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -129,6 +142,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public SPDIF withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -154,6 +168,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -167,6 +182,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public SPDIF withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -188,6 +204,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -199,6 +217,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public SPDIF withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -220,6 +240,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -231,6 +253,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public SPDIF withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -256,6 +280,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public void  setForcePCM(Boolean forcePCM) {
 		this.forcePCM = forcePCM;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -269,6 +294,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public SPDIF withForcePCM(Boolean forcePCM) {
 		this.forcePCM = forcePCM;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -290,6 +316,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public void  setPassthrough(Boolean passthrough) {
 		this.passthrough = passthrough;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -301,6 +328,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public SPDIF withPassthrough(Boolean passthrough) {
 		this.passthrough = passthrough;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -322,6 +350,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public void  setAudioDelay(Long audioDelay) {
 		this.audioDelay = audioDelay;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -333,6 +362,7 @@ When set to {{false}}, let the compressed audio format be carried over S/PDIF (p
 	 */
 	public SPDIF withAudioDelay(Long audioDelay) {
 		this.audioDelay = audioDelay;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Video decoder instance table. It contains data representing the current status of the video decoder.
@@ -119,6 +121,16 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@XmlElement(name = "ContentAspectRatio")
 	public String contentAspectRatio;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VideoDecoder() {
 	}
 
@@ -141,6 +153,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -152,6 +165,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -177,6 +191,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -190,6 +205,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -211,6 +227,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -222,6 +240,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -243,6 +263,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -254,6 +276,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -279,6 +303,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMpeG2Part2(String mpeG2Part2) {
 		this.mpeG2Part2 = mpeG2Part2;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -292,6 +317,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withMpeG2Part2(String mpeG2Part2) {
 		this.mpeG2Part2 = mpeG2Part2;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -317,6 +343,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMpeG4Part2(String mpeG4Part2) {
 		this.mpeG4Part2 = mpeG4Part2;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -330,6 +357,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withMpeG4Part2(String mpeG4Part2) {
 		this.mpeG4Part2 = mpeG4Part2;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -355,6 +383,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMpeG4Part10(String mpeG4Part10) {
 		this.mpeG4Part10 = mpeG4Part10;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -368,6 +397,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withMpeG4Part10(String mpeG4Part10) {
 		this.mpeG4Part10 = mpeG4Part10;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -393,6 +423,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setSmpTEVC1(String smpTEVC1) {
 		this.smpTEVC1 = smpTEVC1;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -406,6 +437,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withSmpTEVC1(String smpTEVC1) {
 		this.smpTEVC1 = smpTEVC1;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -427,6 +459,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setContentAspectRatio(String contentAspectRatio) {
 		this.contentAspectRatio = contentAspectRatio;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -438,6 +471,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoDecoder withContentAspectRatio(String contentAspectRatio) {
 		this.contentAspectRatio = contentAspectRatio;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
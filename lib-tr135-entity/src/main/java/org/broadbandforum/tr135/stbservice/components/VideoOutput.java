@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.components;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Video output instance table.
@@ -156,6 +159,16 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 	@XmlList
 	public Collection<String> scaRTs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VideoOutput() {
 	}
 
@@ -178,6 +191,7 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -189,6 +203,7 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 	 */
 	public VideoOutput withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -214,6 +229,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -227,6 +243,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoOutput withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -248,6 +265,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -259,6 +278,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public VideoOutput withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -292,6 +313,7 @@ This parameter MUST be always initialized with the value {{false}} on STB boot.
 	 */
 	public void  setColorbarEnable(Boolean colorbarEnable) {
 		this.colorbarEnable = colorbarEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -309,6 +331,7 @@ This parameter MUST be always initialized with the value {{false}} on STB boot.
 	 */
 	public VideoOutput withColorbarEnable(Boolean colorbarEnable) {
 		this.colorbarEnable = colorbarEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -330,6 +353,8 @@ This parameter MUST be always initialized with the value {{false}} on STB boot.
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -341,6 +366,8 @@ This parameter MUST be always initialized with the value {{false}} on STB boot.
 	 */
 	public VideoOutput withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -366,6 +393,7 @@ Note that this parameter applies only to the CVBS output format.
 	 */
 	public void  setCompositeVideoStandard(String compositeVideoStandard) {
 		this.compositeVideoStandard = compositeVideoStandard;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -379,6 +407,7 @@ Note that this parameter applies only to the CVBS output format.
 	 */
 	public VideoOutput withCompositeVideoStandard(String compositeVideoStandard) {
 		this.compositeVideoStandard = compositeVideoStandard;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -404,6 +433,7 @@ Note that this parameter refers to output formats and not to physical connectors
 	 */
 	public void  setVideoFormat(String videoFormat) {
 		this.videoFormat = videoFormat;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -417,6 +447,7 @@ Note that this parameter refers to output formats and not to physical connectors
 	 */
 	public VideoOutput withVideoFormat(String videoFormat) {
 		this.videoFormat = videoFormat;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -438,6 +469,7 @@ Note that this parameter refers to output formats and not to physical connectors
 	 */
 	public void  setAspectRatioBehaviour(String aspectRatioBehaviour) {
 		this.aspectRatioBehaviour = aspectRatioBehaviour;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -449,6 +481,7 @@ Note that this parameter refers to output formats and not to physical connectors
 	 */
 	public VideoOutput withAspectRatioBehaviour(String aspectRatioBehaviour) {
 		this.aspectRatioBehaviour = aspectRatioBehaviour;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -474,6 +507,7 @@ This parameter is used by the STB to determine whether an aspect ratio conversio
 	 */
 	public void  setDisplayFormat(String displayFormat) {
 		this.displayFormat = displayFormat;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -487,6 +521,7 @@ This parameter is used by the STB to determine whether an aspect ratio conversio
 	 */
 	public VideoOutput withDisplayFormat(String displayFormat) {
 		this.displayFormat = displayFormat;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -512,6 +547,7 @@ The Macrovision version supported is indicated in {{param|.Capabilities.VideoOut
 	 */
 	public void  setMacrovision(Boolean macrovision) {
 		this.macrovision = macrovision;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -525,6 +561,7 @@ The Macrovision version supported is indicated in {{param|.Capabilities.VideoOut
 	 */
 	public VideoOutput withMacrovision(Boolean macrovision) {
 		this.macrovision = macrovision;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -550,6 +587,7 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 	 */
 	public void  setHdcP(Boolean hdcP) {
 		this.hdcP = hdcP;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -563,6 +601,7 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 	 */
 	public VideoOutput withHdcP(Boolean hdcP) {
 		this.hdcP = hdcP;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -581,6 +620,21 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 		return scaRTs;
 	}
 
+	/**
+	 * Read the scaRT object instances associated with this video output, or {{empty}} if not associated with any SCART object instances.  For example:
+
+* ''.Components.SCART.2''
+
+* ''.Components.SCART.2,.Components.SCART.3''
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewScaRTs() {
+		return scaRTs == null ? Collections.emptyList() : scaRTs;
+	}
+
 	/**
 	 * Set the scaRT object instances associated with this video output, or {{empty}} if not associated with any SCART object instances.  For example:
 
@@ -593,6 +647,7 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 	 */
 	public void  setScaRTs(Collection<String> scaRTs) {
 		this.scaRTs = scaRTs;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -608,6 +663,7 @@ The HDCP version supported is indicated in {{param|.Capabilities.VideoOutput.HDC
 	 */
 	public VideoOutput withScaRTs(String string) {
 		getScaRTs().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.components.frontend;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.Dejittering;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.FEC;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.ForceMonitor;
@@ -113,6 +115,11 @@ The force monitor mode allows to maintain an active stream coming from the netwo
 	@XmlElement(name = "ForceMonitor")
 	public ForceMonitor forceMonitor;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IP() {
 	}
 
@@ -135,6 +142,7 @@ The force monitor mode allows to maintain an active stream coming from the netwo
 	 */
 	public void  setActiveInboundIPStreams(Long activeInboundIPStreams) {
 		this.activeInboundIPStreams = activeInboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -146,6 +154,7 @@ The force monitor mode allows to maintain an active stream coming from the netwo
 	 */
 	public IP withActiveInboundIPStreams(Long activeInboundIPStreams) {
 		this.activeInboundIPStreams = activeInboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -167,6 +176,7 @@ The force monitor mode allows to maintain an active stream coming from the netwo
 	 */
 	public void  setActiveOutboundIPStreams(Long activeOutboundIPStreams) {
 		this.activeOutboundIPStreams = activeOutboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -178,6 +188,7 @@ The force monitor mode allows to maintain an active stream coming from the netwo
 	 */
 	public IP withActiveOutboundIPStreams(Long activeOutboundIPStreams) {
 		this.activeOutboundIPStreams = activeOutboundIPStreams;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -332,10 +343,20 @@ The force monitor mode allows to maintain an active stream coming from the netwo
 	 * @return the value
 	 */
 	public Collection<Inbound> getInbounds() {
-		if (this.inbounds == null){ this.inbounds=new ArrayList<>();}
+		if (!(this.inbounds instanceof InstanceTable)){ this.inbounds=InstanceTable.of(this.inbounds);}
 		return inbounds;
 	}
 
+	/**
+	 * Read the inbound IP streams currently entering the STB via this front-end.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Inbound> viewInbounds() {
+		return inbounds == null ? Collections.emptyList() : inbounds;
+	}
+
 	/**
 	 * Set the inbound IP streams currently entering the STB via this front-end.
 	 *
@@ -362,10 +383,20 @@ The force monitor mode allows to maintain an active stream coming from the netwo
 	 * @return the value
 	 */
 	public Collection<Outbound> getOutbounds() {
-		if (this.outbounds == null){ this.outbounds=new ArrayList<>();}
+		if (!(this.outbounds instanceof InstanceTable)){ this.outbounds=InstanceTable.of(this.outbounds);}
 		return outbounds;
 	}
 
+	/**
+	 * Read the parameters related to an outbound IP stream.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Outbound> viewOutbounds() {
+		return outbounds == null ? Collections.emptyList() : outbounds;
+	}
+
 	/**
 	 * Set the parameters related to an outbound IP stream.
 	 *
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * DVB-T service list database installation.  Supports maintenance of the service list database by scanning frequencies in order to detect services.
@@ -84,6 +85,11 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@CWMPParameter(access = "readWrite", units = "kHz")
 	public Long stopFrequency;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Install() {
 	}
 
@@ -114,6 +120,7 @@ In order to force a re-install, the service list database needs to be reset (see
 	 */
 	public void  setStart(Boolean start) {
 		this.start = start;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -129,6 +136,7 @@ In order to force a re-install, the service list database needs to be reset (see
 	 */
 	public Install withStart(Boolean start) {
 		this.start = start;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -154,6 +162,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -167,6 +176,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Install withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -188,6 +198,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setProgress(Long progress) {
 		this.progress = progress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -199,6 +210,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Install withProgress(Long progress) {
 		this.progress = progress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -220,6 +232,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStartFrequency(Long startFrequency) {
 		this.startFrequency = startFrequency;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +244,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Install withStartFrequency(Long startFrequency) {
 		this.startFrequency = startFrequency;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -252,6 +266,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStopFrequency(Long stopFrequency) {
 		this.stopFrequency = stopFrequency;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -263,6 +278,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Install withStopFrequency(Long stopFrequency) {
 		this.stopFrequency = stopFrequency;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Connect to a DVB-T logical channel.
@@ -47,6 +48,11 @@ The value is not saved in device state.  The value when read is not specified an
 	@CWMPParameter(access = "readWrite")
 	public Long logicalChannelNumber;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LogicalChannelConnect() {
 	}
 
@@ -77,6 +83,7 @@ The value is not saved in device state.  The value when read is not specified an
 	 */
 	public void  setLogicalChannelNumber(Long logicalChannelNumber) {
 		this.logicalChannelNumber = logicalChannelNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ The value is not saved in device state.  The value when read is not specified an
 	 */
 	public LogicalChannelConnect withLogicalChannelNumber(Long logicalChannelNumber) {
 		this.logicalChannelNumber = logicalChannelNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
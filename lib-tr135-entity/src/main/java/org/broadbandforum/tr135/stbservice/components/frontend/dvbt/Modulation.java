@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * DVB-T modulation details.
@@ -132,6 +133,11 @@ The value of this parameter is undefined while installing the service list (see
 	@XmlElement(name = "Locked")
 	public Boolean locked;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Modulation() {
 	}
 
@@ -158,6 +164,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setFrequency(Long frequency) {
 		this.frequency = frequency;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -171,6 +178,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withFrequency(Long frequency) {
 		this.frequency = frequency;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -192,6 +200,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setChannelBandwidth(String channelBandwidth) {
 		this.channelBandwidth = channelBandwidth;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -203,6 +212,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withChannelBandwidth(String channelBandwidth) {
 		this.channelBandwidth = channelBandwidth;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -224,6 +234,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setConstellation(String constellation) {
 		this.constellation = constellation;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -235,6 +246,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withConstellation(String constellation) {
 		this.constellation = constellation;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -256,6 +268,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setHierarchicalInformation(String hierarchicalInformation) {
 		this.hierarchicalInformation = hierarchicalInformation;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -267,6 +280,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withHierarchicalInformation(String hierarchicalInformation) {
 		this.hierarchicalInformation = hierarchicalInformation;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -288,6 +302,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setCodeRateHP(String codeRateHP) {
 		this.codeRateHP = codeRateHP;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -299,6 +314,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withCodeRateHP(String codeRateHP) {
 		this.codeRateHP = codeRateHP;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -320,6 +336,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setCodeRateLP(String codeRateLP) {
 		this.codeRateLP = codeRateLP;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -331,6 +348,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withCodeRateLP(String codeRateLP) {
 		this.codeRateLP = codeRateLP;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -352,6 +370,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setGuardInterval(String guardInterval) {
 		this.guardInterval = guardInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -363,6 +382,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withGuardInterval(String guardInterval) {
 		this.guardInterval = guardInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -384,6 +404,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setTransmissionMode(String transmissionMode) {
 		this.transmissionMode = transmissionMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -395,6 +416,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withTransmissionMode(String transmissionMode) {
 		this.transmissionMode = transmissionMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -416,6 +438,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -427,6 +450,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -448,6 +472,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setBer(Long ber) {
 		this.ber = ber;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -459,6 +484,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withBer(Long ber) {
 		this.ber = ber;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -480,6 +506,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setCbeR(Long cbeR) {
 		this.cbeR = cbeR;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -491,6 +518,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withCbeR(Long cbeR) {
 		this.cbeR = cbeR;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -512,6 +540,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public void  setLocked(Boolean locked) {
 		this.locked = locked;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -523,6 +552,7 @@ The value of this parameter is undefined while installing the service list (see
 	 */
 	public Modulation withLocked(Boolean locked) {
 		this.locked = locked;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
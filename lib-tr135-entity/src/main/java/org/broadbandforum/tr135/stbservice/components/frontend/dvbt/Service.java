@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * DVB-T Current service details.
@@ -51,6 +52,11 @@ public class Service {
 	@Size(max = 256)
 	public String currentService;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Service() {
 	}
 
@@ -73,6 +79,7 @@ public class Service {
 	 */
 	public void  setCurrentLogicalChannel(String currentLogicalChannel) {
 		this.currentLogicalChannel = currentLogicalChannel;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +91,7 @@ public class Service {
 	 */
 	public Service withCurrentLogicalChannel(String currentLogicalChannel) {
 		this.currentLogicalChannel = currentLogicalChannel;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -105,6 +113,7 @@ public class Service {
 	 */
 	public void  setCurrentService(String currentService) {
 		this.currentService = currentService;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -116,6 +125,7 @@ public class Service {
 	 */
 	public Service withCurrentService(String currentService) {
 		this.currentService = currentService;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Connect to a DVB-T service.
@@ -49,6 +50,11 @@ The value is not saved in device state.  The value when read is not specified an
 	@Size(max = 12)
 	public String dvbId;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ServiceConnect() {
 	}
 
@@ -79,6 +85,7 @@ The value is not saved in device state.  The value when read is not specified an
 	 */
 	public void  setDvbId(String dvbId) {
 		this.dvbId = dvbId;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -94,6 +101,7 @@ The value is not saved in device state.  The value when read is not specified an
 	 */
 	public ServiceConnect withDvbId(String dvbId) {
 		this.dvbId = dvbId;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
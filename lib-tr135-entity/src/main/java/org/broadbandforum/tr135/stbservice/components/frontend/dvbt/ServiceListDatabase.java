@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.components.frontend.dvbt;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.frontend.dvbt.servicelistdatabase.LogicalChannel;
 
 	/**
@@ -60,6 +62,11 @@ public class ServiceListDatabase {
 	@XmlElement(name = "LogicalChannel")
 	public Collection<LogicalChannel> logicalChannels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ServiceListDatabase() {
 	}
 
@@ -82,6 +89,7 @@ public class ServiceListDatabase {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -93,6 +101,7 @@ public class ServiceListDatabase {
 	 */
 	public ServiceListDatabase withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -114,6 +123,7 @@ public class ServiceListDatabase {
 	 */
 	public void  setTotalServices(Long totalServices) {
 		this.totalServices = totalServices;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -125,6 +135,7 @@ public class ServiceListDatabase {
 	 */
 	public ServiceListDatabase withTotalServices(Long totalServices) {
 		this.totalServices = totalServices;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -134,10 +145,20 @@ public class ServiceListDatabase {
 	 * @return the value
 	 */
 	public Collection<LogicalChannel> getLogicalChannels() {
-		if (this.logicalChannels == null){ this.logicalChannels=new ArrayList<>();}
+		if (!(this.logicalChannels instanceof InstanceTable)){ this.logicalChannels=InstanceTable.of(this.logicalChannels);}
 		return logicalChannels;
 	}
 
+	/**
+	 * Read the dvb-T logical channel information.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LogicalChannel> viewLogicalChannels() {
+		return logicalChannels == null ? Collections.emptyList() : logicalChannels;
+	}
+
 	/**
 	 * Set the dvb-T logical channel information.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.components.frontend.dvbt.servicelistdatabase;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.frontend.dvbt.servicelistdatabase.logicalchannel.Service;
 
 	/**
@@ -63,6 +65,16 @@ public class LogicalChannel {
 	@XmlElement(name = "Service")
 	public Collection<Service> services;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LogicalChannel() {
 	}
 
@@ -85,6 +97,8 @@ public class LogicalChannel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -96,6 +110,8 @@ public class LogicalChannel {
 	 */
 	public LogicalChannel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -117,6 +133,8 @@ public class LogicalChannel {
 	 */
 	public void  setLogicalChannelNumber(Long logicalChannelNumber) {
 		this.logicalChannelNumber = logicalChannelNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -128,6 +146,8 @@ public class LogicalChannel {
 	 */
 	public LogicalChannel withLogicalChannelNumber(Long logicalChannelNumber) {
 		this.logicalChannelNumber = logicalChannelNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -137,10 +157,20 @@ public class LogicalChannel {
 	 * @return the value
 	 */
 	public Collection<Service> getServices() {
-		if (this.services == null){ this.services=new ArrayList<>();}
+		if (!(this.services instanceof InstanceTable)){ this.services=InstanceTable.of(this.services);}
 		return services;
 	}
 
+	/**
+	 * Read the dvb-T service information.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Service> viewServices() {
+		return services == null ? Collections.emptyList() : services;
+	}
+
 	/**
 	 * Set the dvb-T service information.
 	 *
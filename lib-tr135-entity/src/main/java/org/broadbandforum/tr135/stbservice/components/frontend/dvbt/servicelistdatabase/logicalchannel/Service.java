@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * DVB-T service information.
@@ -116,6 +118,16 @@ Whenever frequencies are re-scanned, all {{param}} parameters are implicitly res
 	@CWMPParameter(access = "readWrite")
 	public Boolean preferred;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Service() {
 	}
 
@@ -138,6 +150,8 @@ Whenever frequencies are re-scanned, all {{param}} parameters are implicitly res
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -149,6 +163,8 @@ Whenever frequencies are re-scanned, all {{param}} parameters are implicitly res
 	 */
 	public Service withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -170,6 +186,7 @@ Whenever frequencies are re-scanned, all {{param}} parameters are implicitly res
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -181,6 +198,7 @@ Whenever frequencies are re-scanned, all {{param}} parameters are implicitly res
 	 */
 	public Service withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -222,6 +240,8 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public void  setDvbId(String dvbId) {
 		this.dvbId = dvbId;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -243,6 +263,8 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public Service withDvbId(String dvbId) {
 		this.dvbId = dvbId;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -264,6 +286,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public void  setFrequency(Long frequency) {
 		this.frequency = frequency;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -275,6 +298,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public Service withFrequency(Long frequency) {
 		this.frequency = frequency;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -296,6 +320,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public void  setBer(Long ber) {
 		this.ber = ber;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -307,6 +332,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public Service withBer(Long ber) {
 		this.ber = ber;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -328,6 +354,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public void  setCbeR(Long cbeR) {
 		this.cbeR = cbeR;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -339,6 +366,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public Service withCbeR(Long cbeR) {
 		this.cbeR = cbeR;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -360,6 +388,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public void  setSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -371,6 +400,7 @@ The DVB Triplet is a 12-byte string that is a concatenation of 4 hexadecimal cha
 	 */
 	public Service withSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -400,6 +430,7 @@ Whenever frequencies are re-scanned, all {{param}} parameters are implicitly res
 	 */
 	public void  setPreferred(Boolean preferred) {
 		this.preferred = preferred;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -415,6 +446,7 @@ Whenever frequencies are re-scanned, all {{param}} parameters are implicitly res
 	 */
 	public Service withPreferred(Boolean preferred) {
 		this.preferred = preferred;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
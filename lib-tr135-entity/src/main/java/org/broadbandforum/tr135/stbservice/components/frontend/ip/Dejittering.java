@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters related to the de-jittering buffer configuration for all inbound IP streams.
@@ -51,6 +52,11 @@ public class Dejittering {
 	@CWMPParameter(access = "readWrite", units = "milliseconds")
 	public Long bufferInitialLevel;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Dejittering() {
 	}
 
@@ -73,6 +79,7 @@ public class Dejittering {
 	 */
 	public void  setBufferSize(Long bufferSize) {
 		this.bufferSize = bufferSize;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +91,7 @@ public class Dejittering {
 	 */
 	public Dejittering withBufferSize(Long bufferSize) {
 		this.bufferSize = bufferSize;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -105,6 +113,7 @@ public class Dejittering {
 	 */
 	public void  setBufferInitialLevel(Long bufferInitialLevel) {
 		this.bufferInitialLevel = bufferInitialLevel;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -116,6 +125,7 @@ public class Dejittering {
 	 */
 	public Dejittering withBufferInitialLevel(Long bufferInitialLevel) {
 		this.bufferInitialLevel = bufferInitialLevel;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters related to AL-FEC configuration as defined in {{bibref|SMPTE20022-1}}.
@@ -68,6 +69,11 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@XmlElement(name = "ECOperationStatus")
 	public String ecoperationStatus;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FEC() {
 	}
 
@@ -98,6 +104,7 @@ When set to {{false}}, disables the FEC decoder operation.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +120,7 @@ When set to {{false}}, disables the FEC decoder operation.
 	 */
 	public FEC withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -142,6 +150,7 @@ In {{enum|Forced}} mode, when Error Correction is enabled the STB MUST run the F
 	 */
 	public void  setOperationMode(String operationMode) {
 		this.operationMode = operationMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -157,6 +166,7 @@ In {{enum|Forced}} mode, when Error Correction is enabled the STB MUST run the F
 	 */
 	public FEC withOperationMode(String operationMode) {
 		this.operationMode = operationMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -182,6 +192,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEcoperationStatus(String ecoperationStatus) {
 		this.ecoperationStatus = ecoperationStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -195,6 +206,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public FEC withEcoperationStatus(String ecoperationStatus) {
 		this.ecoperationStatus = ecoperationStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
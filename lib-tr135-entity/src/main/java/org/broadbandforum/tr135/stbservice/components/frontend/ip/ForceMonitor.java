@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters used to describe the force monitoring operation.
@@ -72,6 +73,11 @@ The value when read is not specified and need not be the value that was most rec
 	@Size(max = 256)
 	public String uri;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ForceMonitor() {
 	}
 
@@ -98,6 +104,7 @@ When set to {{false}}, forces operation mode in Normal mode.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +118,7 @@ When set to {{false}}, forces operation mode in Normal mode.
 	 */
 	public ForceMonitor withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -132,6 +140,7 @@ When set to {{false}}, forces operation mode in Normal mode.
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -143,6 +152,7 @@ When set to {{false}}, forces operation mode in Normal mode.
 	 */
 	public ForceMonitor withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -172,6 +182,7 @@ The value when read is not specified and need not be the value that was most rec
 	 */
 	public void  setUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -187,6 +198,7 @@ The value when read is not specified and need not be the value that was most rec
 	 */
 	public ForceMonitor withUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.components.frontend.ip;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.igmp.ClientGroup;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.igmp.ClientGroupStats;
 
@@ -161,6 +163,11 @@ The CPE MUST support at least ''MaximumNumberOfTrackedGroups'' table entries.  T
 	@XmlElement(name = "ClientGroupStats")
 	public Collection<ClientGroupStats> clientGroupStatss;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IGMP() {
 	}
 
@@ -183,6 +190,7 @@ The CPE MUST support at least ''MaximumNumberOfTrackedGroups'' table entries.  T
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -194,6 +202,7 @@ The CPE MUST support at least ''MaximumNumberOfTrackedGroups'' table entries.  T
 	 */
 	public IGMP withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -219,6 +228,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -232,6 +242,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public IGMP withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -257,6 +268,7 @@ For example, this would need to be at least 2 in order to support a Multicast-de
 	 */
 	public void  setMaximumNumberOfConcurrentGroups(Long maximumNumberOfConcurrentGroups) {
 		this.maximumNumberOfConcurrentGroups = maximumNumberOfConcurrentGroups;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -270,6 +282,7 @@ For example, this would need to be at least 2 in order to support a Multicast-de
 	 */
 	public IGMP withMaximumNumberOfConcurrentGroups(Long maximumNumberOfConcurrentGroups) {
 		this.maximumNumberOfConcurrentGroups = maximumNumberOfConcurrentGroups;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -295,6 +308,7 @@ This relates only to the maintenance of statistics, and does not affect the oper
 	 */
 	public void  setMaximumNumberOfTrackedGroups(Long maximumNumberOfTrackedGroups) {
 		this.maximumNumberOfTrackedGroups = maximumNumberOfTrackedGroups;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -308,6 +322,7 @@ This relates only to the maintenance of statistics, and does not affect the oper
 	 */
 	public IGMP withMaximumNumberOfTrackedGroups(Long maximumNumberOfTrackedGroups) {
 		this.maximumNumberOfTrackedGroups = maximumNumberOfTrackedGroups;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -333,6 +348,7 @@ The CPE MAY choose to throttle log entries, e.g. if joins and leaves are occurri
 	 */
 	public void  setLoggingEnable(Boolean loggingEnable) {
 		this.loggingEnable = loggingEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -346,6 +362,7 @@ The CPE MAY choose to throttle log entries, e.g. if joins and leaves are occurri
 	 */
 	public IGMP withLoggingEnable(Boolean loggingEnable) {
 		this.loggingEnable = loggingEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -367,6 +384,7 @@ The CPE MAY choose to throttle log entries, e.g. if joins and leaves are occurri
 	 */
 	public void  setDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -378,6 +396,7 @@ The CPE MAY choose to throttle log entries, e.g. if joins and leaves are occurri
 	 */
 	public IGMP withDscPMark(Long dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -403,6 +422,7 @@ If either the {{param}} or {{param|EthernetPriorityMark}} is greater than zero,
 	 */
 	public void  setVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -416,6 +436,7 @@ If either the {{param}} or {{param|EthernetPriorityMark}} is greater than zero,
 	 */
 	public IGMP withVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -441,6 +462,7 @@ If either the {{param|VLANIDMark}} or {{param}} are greater than zero, then the
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -454,6 +476,7 @@ If either the {{param|VLANIDMark}} or {{param}} are greater than zero, then the
 	 */
 	public IGMP withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -475,6 +498,7 @@ If either the {{param|VLANIDMark}} or {{param}} are greater than zero, then the
 	 */
 	public void  setClientVersion(String clientVersion) {
 		this.clientVersion = clientVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -486,6 +510,7 @@ If either the {{param|VLANIDMark}} or {{param}} are greater than zero, then the
 	 */
 	public IGMP withClientVersion(String clientVersion) {
 		this.clientVersion = clientVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -511,6 +536,7 @@ RFC 3376 specifies a default of 2.
 	 */
 	public void  setClientRobustness(Long clientRobustness) {
 		this.clientRobustness = clientRobustness;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -524,6 +550,7 @@ RFC 3376 specifies a default of 2.
 	 */
 	public IGMP withClientRobustness(Long clientRobustness) {
 		this.clientRobustness = clientRobustness;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -549,6 +576,7 @@ RFC 3376 specifies a default of 1s.
 	 */
 	public void  setClientUnsolicitedReportInterval(Long clientUnsolicitedReportInterval) {
 		this.clientUnsolicitedReportInterval = clientUnsolicitedReportInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -562,6 +590,7 @@ RFC 3376 specifies a default of 1s.
 	 */
 	public IGMP withClientUnsolicitedReportInterval(Long clientUnsolicitedReportInterval) {
 		this.clientUnsolicitedReportInterval = clientUnsolicitedReportInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -573,10 +602,22 @@ The CPE MUST support at least ''MaximumNumberOfConcurrentGroups'' table entries.
 	 * @return the value
 	 */
 	public Collection<ClientGroup> getClientGroups() {
-		if (this.clientGroups == null){ this.clientGroups=new ArrayList<>();}
+		if (!(this.clientGroups instanceof InstanceTable)){ this.clientGroups=InstanceTable.of(this.clientGroups);}
 		return clientGroups;
 	}
 
+	/**
+	 * Read the igmP Group table. This is the database that is maintained by the IGMP client to reflect the current group membership.
+
+The CPE MUST support at least ''MaximumNumberOfConcurrentGroups'' table entries.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ClientGroup> viewClientGroups() {
+		return clientGroups == null ? Collections.emptyList() : clientGroups;
+	}
+
 	/**
 	 * Set the igmP Group table. This is the database that is maintained by the IGMP client to reflect the current group membership.
 
@@ -609,10 +650,22 @@ The CPE MUST support at least ''MaximumNumberOfTrackedGroups'' table entries.  T
 	 * @return the value
 	 */
 	public Collection<ClientGroupStats> getClientGroupStatss() {
-		if (this.clientGroupStatss == null){ this.clientGroupStatss=new ArrayList<>();}
+		if (!(this.clientGroupStatss instanceof InstanceTable)){ this.clientGroupStatss=InstanceTable.of(this.clientGroupStatss);}
 		return clientGroupStatss;
 	}
 
+	/**
+	 * Read the igmP Group statistics table.  This stores per-group historical statistical data.
+
+The CPE MUST support at least ''MaximumNumberOfTrackedGroups'' table entries.  The CPE MAY reclaim entries based on the oldest membership reports.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ClientGroupStats> viewClientGroupStatss() {
+		return clientGroupStatss == null ? Collections.emptyList() : clientGroupStatss;
+	}
+
 	/**
 	 * Set the igmP Group statistics table.  This stores per-group historical statistical data.
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Inbound IP streams currently entering the STB via this front-end.
@@ -142,6 +144,16 @@ If specified, the URI MUST be consistent with the other source-related parameter
 	@Size(max = 256)
 	public String uri;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Inbound() {
 	}
 
@@ -168,6 +180,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -181,6 +194,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -202,6 +216,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -213,6 +229,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -234,6 +252,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -245,6 +265,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -266,6 +288,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStreamingControlProtocol(String streamingControlProtocol) {
 		this.streamingControlProtocol = streamingControlProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -277,6 +300,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withStreamingControlProtocol(String streamingControlProtocol) {
 		this.streamingControlProtocol = streamingControlProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -298,6 +322,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStreamingTransportProtocol(String streamingTransportProtocol) {
 		this.streamingTransportProtocol = streamingTransportProtocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -309,6 +334,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withStreamingTransportProtocol(String streamingTransportProtocol) {
 		this.streamingTransportProtocol = streamingTransportProtocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -330,6 +356,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStreamingTransportControlProtocol(String streamingTransportControlProtocol) {
 		this.streamingTransportControlProtocol = streamingTransportControlProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -341,6 +368,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withStreamingTransportControlProtocol(String streamingTransportControlProtocol) {
 		this.streamingTransportControlProtocol = streamingTransportControlProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -362,6 +390,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMultiplexType(String multiplexType) {
 		this.multiplexType = multiplexType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -373,6 +402,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withMultiplexType(String multiplexType) {
 		this.multiplexType = multiplexType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -394,6 +424,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDownloadTransportProtocol(String downloadTransportProtocol) {
 		this.downloadTransportProtocol = downloadTransportProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -405,6 +436,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withDownloadTransportProtocol(String downloadTransportProtocol) {
 		this.downloadTransportProtocol = downloadTransportProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -426,6 +458,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setSourceAddress(IPAddress sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -437,6 +470,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withSourceAddress(IPAddress sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -458,6 +492,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setSourcePort(Long sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -469,6 +504,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withSourcePort(Long sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -490,6 +526,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDestinationAddress(IPAddress destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -501,6 +538,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withDestinationAddress(IPAddress destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -522,6 +560,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDestinationPort(Long destinationPort) {
 		this.destinationPort = destinationPort;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -533,6 +572,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Inbound withDestinationPort(Long destinationPort) {
 		this.destinationPort = destinationPort;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -562,6 +602,7 @@ If specified, the URI MUST be consistent with the other source-related parameter
 	 */
 	public void  setUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -577,6 +618,7 @@ If specified, the URI MUST be consistent with the other source-related parameter
 	 */
 	public Inbound withUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
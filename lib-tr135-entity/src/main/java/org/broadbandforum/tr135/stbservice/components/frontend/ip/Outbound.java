@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Parameters related to an outbound IP stream.
@@ -81,6 +83,16 @@ For example, this might be an UPnP AV URN.
 	@Size(max = 256)
 	public String uri;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Outbound() {
 	}
 
@@ -107,6 +119,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -120,6 +133,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Outbound withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -141,6 +155,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -152,6 +168,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Outbound withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -173,6 +191,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -184,6 +204,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Outbound withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -205,6 +227,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMultiplexType(String multiplexType) {
 		this.multiplexType = multiplexType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -216,6 +239,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Outbound withMultiplexType(String multiplexType) {
 		this.multiplexType = multiplexType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -241,6 +265,7 @@ For example, this might be an UPnP AV URN.
 	 */
 	public void  setUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -254,6 +279,7 @@ For example, this might be an UPnP AV URN.
 	 */
 	public Outbound withUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
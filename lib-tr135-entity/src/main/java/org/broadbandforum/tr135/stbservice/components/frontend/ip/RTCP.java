@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters related to RTCP receiver report generation as defined in {{bibref|RFC3550}}.
@@ -62,6 +63,11 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@Size(min = 1)
 	public Long txrepeatInterval;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTCP() {
 	}
 
@@ -84,6 +90,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTCP withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -120,6 +128,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -133,6 +142,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTCP withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -154,6 +164,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setTxrepeatInterval(Long txrepeatInterval) {
 		this.txrepeatInterval = txrepeatInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -165,6 +176,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTCP withTxrepeatInterval(Long txrepeatInterval) {
 		this.txrepeatInterval = txrepeatInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
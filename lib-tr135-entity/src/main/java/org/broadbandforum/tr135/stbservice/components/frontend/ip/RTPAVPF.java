@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters related to RTP AVPF configuration as defined in {{bibref|RFC4585}} and {{bibref|RFC4588}}.
@@ -109,6 +110,11 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@CWMPParameter(access = "readWrite")
 	public Long maxLossBurst;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTPAVPF() {
 	}
 
@@ -139,6 +145,7 @@ When set to {{false}}, disables the error correction operation.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -154,6 +161,7 @@ When set to {{false}}, disables the error correction operation.
 	 */
 	public RTPAVPF withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -183,6 +191,7 @@ In {{enum|Forced}} mode, when Error Correction is enabled the STB MUST run the E
 	 */
 	public void  setOperationMode(String operationMode) {
 		this.operationMode = operationMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -198,6 +207,7 @@ In {{enum|Forced}} mode, when Error Correction is enabled the STB MUST run the E
 	 */
 	public RTPAVPF withOperationMode(String operationMode) {
 		this.operationMode = operationMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -223,6 +233,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEcoperationStatus(String ecoperationStatus) {
 		this.ecoperationStatus = ecoperationStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -236,6 +247,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTPAVPF withEcoperationStatus(String ecoperationStatus) {
 		this.ecoperationStatus = ecoperationStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -261,6 +273,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -274,6 +287,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTPAVPF withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -295,6 +309,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setRetransmitTimeout(Long retransmitTimeout) {
 		this.retransmitTimeout = retransmitTimeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -306,6 +321,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTPAVPF withRetransmitTimeout(Long retransmitTimeout) {
 		this.retransmitTimeout = retransmitTimeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -327,6 +343,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMinLossPackets(Long minLossPackets) {
 		this.minLossPackets = minLossPackets;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -338,6 +355,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTPAVPF withMinLossPackets(Long minLossPackets) {
 		this.minLossPackets = minLossPackets;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -359,6 +377,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMaxReportTime(Long maxReportTime) {
 		this.maxReportTime = maxReportTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -370,6 +389,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTPAVPF withMaxReportTime(Long maxReportTime) {
 		this.maxReportTime = maxReportTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -391,6 +411,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMaxLossBurst(Long maxLossBurst) {
 		this.maxLossBurst = maxLossBurst;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -402,6 +423,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public RTPAVPF withMaxLossBurst(Long maxLossBurst) {
 		this.maxLossBurst = maxLossBurst;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters used to force connection to a dedicated IP stream for test purposes.
@@ -83,6 +84,11 @@ The value is not saved in device state.  The value when read is not specified an
 	@Size(max = 256)
 	public String uri;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ServiceConnect() {
 	}
 
@@ -181,6 +187,7 @@ The value is not saved in device state.  The value when read is not specified an
 	 */
 	public void  setUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -230,6 +237,7 @@ The value is not saved in device state.  The value when read is not specified an
 	 */
 	public ServiceConnect withUri(String uri) {
 		this.uri = uri;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
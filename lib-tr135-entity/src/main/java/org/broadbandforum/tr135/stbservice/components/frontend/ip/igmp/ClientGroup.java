@@ -24,7 +24,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * IGMP Group table. This is the database that is maintained by the IGMP client to reflect the current group membership.
@@ -64,6 +66,16 @@ public class ClientGroup {
 	@CWMPParameter(activeNotify = "canDeny", units = "seconds")
 	public Long uptime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ClientGroup() {
 	}
 
@@ -86,6 +98,8 @@ public class ClientGroup {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -97,6 +111,8 @@ public class ClientGroup {
 	 */
 	public ClientGroup withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -118,6 +134,8 @@ public class ClientGroup {
 	 */
 	public void  setGroupAddress(IPAddress groupAddress) {
 		this.groupAddress = groupAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -129,6 +147,8 @@ public class ClientGroup {
 	 */
 	public ClientGroup withGroupAddress(IPAddress groupAddress) {
 		this.groupAddress = groupAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -150,6 +170,7 @@ public class ClientGroup {
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -161,6 +182,7 @@ public class ClientGroup {
 	 */
 	public ClientGroup withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -24,7 +24,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.igmp.clientgroupstats.CurrentDay;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.igmp.clientgroupstats.QuarterHour;
 import org.broadbandforum.tr135.stbservice.components.frontend.ip.igmp.clientgroupstats.Total;
@@ -108,6 +110,16 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	@XmlElement(name = "QuarterHour")
 	public QuarterHour quarterHour;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ClientGroupStats() {
 	}
 
@@ -130,6 +142,8 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -141,6 +155,8 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public ClientGroupStats withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -162,6 +178,8 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setGroupAddress(IPAddress groupAddress) {
 		this.groupAddress = groupAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -173,6 +191,8 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public ClientGroupStats withGroupAddress(IPAddress groupAddress) {
 		this.groupAddress = groupAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -198,6 +218,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -211,6 +232,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public ClientGroupStats withTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -240,6 +262,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -255,6 +278,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public ClientGroupStats withCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -284,6 +308,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public void  setQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -299,6 +324,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this may
 	 */
 	public ClientGroupStats withQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
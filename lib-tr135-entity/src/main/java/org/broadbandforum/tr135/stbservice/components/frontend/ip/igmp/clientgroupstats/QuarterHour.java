@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Current quarter hour statistics for this multicast group.
@@ -58,6 +59,11 @@ public class QuarterHour {
 	@XmlElement(name = "MaxJoinDelay")
 	public Long maxJoinDelay;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QuarterHour() {
 	}
 
@@ -80,6 +86,7 @@ public class QuarterHour {
 	 */
 	public void  setNumberOfJoins(Long numberOfJoins) {
 		this.numberOfJoins = numberOfJoins;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -91,6 +98,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withNumberOfJoins(Long numberOfJoins) {
 		this.numberOfJoins = numberOfJoins;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -112,6 +120,7 @@ public class QuarterHour {
 	 */
 	public void  setNumberOfLeaves(Long numberOfLeaves) {
 		this.numberOfLeaves = numberOfLeaves;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -123,6 +132,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withNumberOfLeaves(Long numberOfLeaves) {
 		this.numberOfLeaves = numberOfLeaves;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -144,6 +154,7 @@ public class QuarterHour {
 	 */
 	public void  setMaxJoinDelay(Long maxJoinDelay) {
 		this.maxJoinDelay = maxJoinDelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -155,6 +166,7 @@ public class QuarterHour {
 	 */
 	public QuarterHour withMaxJoinDelay(Long maxJoinDelay) {
 		this.maxJoinDelay = maxJoinDelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
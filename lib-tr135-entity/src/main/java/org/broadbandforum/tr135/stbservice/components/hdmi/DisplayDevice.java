@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.components.hdmi;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * HDMI connected display device configuration. This object provides parameters from the HDMI connected device if any.
@@ -107,6 +109,11 @@ When set to {{false}}, indicates the connected HDMI device does not support HDMI
 	@XmlElement(name = "HDMI3DPresent")
 	public Boolean hdmI3DPresent;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DisplayDevice() {
 	}
 
@@ -133,6 +140,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -146,6 +154,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public DisplayDevice withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -167,6 +176,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -178,6 +188,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public DisplayDevice withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +210,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEedID(byte[] eedID) {
 		this.eedID = eedID;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +222,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public DisplayDevice withEedID(byte[] eedID) {
 		this.eedID = eedID;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -224,6 +237,17 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 		return supportedResolutions;
 	}
 
+	/**
+	 * Read the each entry is a supported resolution of the connected HDMI device and MUST be one element of  {{param|.Capabilities.HDMI.SupportedResolutions}}.
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedResolutions() {
+		return supportedResolutions == null ? Collections.emptyList() : supportedResolutions;
+	}
+
 	/**
 	 * Set the each entry is a supported resolution of the connected HDMI device and MUST be one element of  {{param|.Capabilities.HDMI.SupportedResolutions}}.
 	 *
@@ -232,6 +256,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setSupportedResolutions(Collection<String> supportedResolutions) {
 		this.supportedResolutions = supportedResolutions;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -243,6 +268,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public DisplayDevice withSupportedResolutions(String string) {
 		getSupportedResolutions().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -264,6 +290,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setPreferredResolution(String preferredResolution) {
 		this.preferredResolution = preferredResolution;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -275,6 +302,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public DisplayDevice withPreferredResolution(String preferredResolution) {
 		this.preferredResolution = preferredResolution;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -296,6 +324,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setVideoLatency(Long videoLatency) {
 		this.videoLatency = videoLatency;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -307,6 +336,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public DisplayDevice withVideoLatency(Long videoLatency) {
 		this.videoLatency = videoLatency;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -332,6 +362,7 @@ When set to {{false}}, indicates the connected HDMI device does not support HDMI
 	 */
 	public void  setCecSupport(Boolean cecSupport) {
 		this.cecSupport = cecSupport;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -345,6 +376,7 @@ When set to {{false}}, indicates the connected HDMI device does not support HDMI
 	 */
 	public DisplayDevice withCecSupport(Boolean cecSupport) {
 		this.cecSupport = cecSupport;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -366,6 +398,7 @@ When set to {{false}}, indicates the connected HDMI device does not support HDMI
 	 */
 	public void  setAutoLipSyncSupport(Boolean autoLipSyncSupport) {
 		this.autoLipSyncSupport = autoLipSyncSupport;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -377,6 +410,7 @@ When set to {{false}}, indicates the connected HDMI device does not support HDMI
 	 */
 	public DisplayDevice withAutoLipSyncSupport(Boolean autoLipSyncSupport) {
 		this.autoLipSyncSupport = autoLipSyncSupport;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -398,6 +432,7 @@ When set to {{false}}, indicates the connected HDMI device does not support HDMI
 	 */
 	public void  setHdmI3DPresent(Boolean hdmI3DPresent) {
 		this.hdmI3DPresent = hdmI3DPresent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -409,6 +444,7 @@ When set to {{false}}, indicates the connected HDMI device does not support HDMI
 	 */
 	public DisplayDevice withHdmI3DPresent(Boolean hdmI3DPresent) {
 		this.hdmI3DPresent = hdmI3DPresent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
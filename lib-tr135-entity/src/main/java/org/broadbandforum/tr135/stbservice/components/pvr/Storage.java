@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * PVR storage table. There MUST be an instance for each storage object that can be accessed by the PVR. Entries MAY be dynamically created and deleted as storage devices become available and unavailable.
@@ -65,6 +67,16 @@ The value is the full hierarchical name of the corresponding object.  Example: '
 	@Size(max = 256)
 	public String reference;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Storage() {
 	}
 
@@ -87,6 +99,8 @@ The value is the full hierarchical name of the corresponding object.  Example: '
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -98,6 +112,8 @@ The value is the full hierarchical name of the corresponding object.  Example: '
 	 */
 	public Storage withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -119,6 +135,8 @@ The value is the full hierarchical name of the corresponding object.  Example: '
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -130,6 +148,8 @@ The value is the full hierarchical name of the corresponding object.  Example: '
 	 */
 	public Storage withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -155,6 +175,7 @@ The value is the full hierarchical name of the corresponding object.  Example: '
 	 */
 	public void  setReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -168,6 +189,7 @@ The value is the full hierarchical name of the corresponding object.  Example: '
 	 */
 	public Storage withReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
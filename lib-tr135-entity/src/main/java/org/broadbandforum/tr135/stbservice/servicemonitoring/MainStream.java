@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.UUID;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.EventLog;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.Sample;
@@ -203,6 +205,16 @@ If no data was collected for a statistic during a sample interval then the value
 	@XmlElement(name = "Sample")
 	public Sample sample;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public MainStream() {
 	}
 
@@ -233,6 +245,7 @@ If no data was collected for a statistic during a sample interval then the value
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -248,6 +261,7 @@ If no data was collected for a statistic during a sample interval then the value
 	 */
 	public MainStream withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -273,6 +287,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -286,6 +301,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public MainStream withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -307,6 +323,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setSessionId(UUID sessionId) {
 		this.sessionId = sessionId;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -318,6 +335,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public MainStream withSessionId(UUID sessionId) {
 		this.sessionId = sessionId;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -339,6 +357,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -350,6 +370,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public MainStream withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -375,6 +397,8 @@ The STB MUST reject a request that would result in a given AV stream contributin
 	 */
 	public void  setServiceType(String serviceType) {
 		this.serviceType = serviceType;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -388,6 +412,8 @@ The STB MUST reject a request that would result in a given AV stream contributin
 	 */
 	public MainStream withServiceType(String serviceType) {
 		this.serviceType = serviceType;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -417,6 +443,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public void  setAvstream(String avstream) {
 		this.avstream = avstream;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -432,6 +459,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public MainStream withAvstream(String avstream) {
 		this.avstream = avstream;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -457,6 +485,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public void  setGmin(Long gmin) {
 		this.gmin = gmin;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -470,6 +499,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public MainStream withGmin(Long gmin) {
 		this.gmin = gmin;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -491,6 +521,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public void  setSevereLossMinDistance(Long severeLossMinDistance) {
 		this.severeLossMinDistance = severeLossMinDistance;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -502,6 +533,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public MainStream withSevereLossMinDistance(Long severeLossMinDistance) {
 		this.severeLossMinDistance = severeLossMinDistance;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -523,6 +555,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public void  setSevereLossMinLength(Long severeLossMinLength) {
 		this.severeLossMinLength = severeLossMinLength;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -534,6 +567,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public MainStream withSevereLossMinLength(Long severeLossMinLength) {
 		this.severeLossMinLength = severeLossMinLength;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -555,6 +589,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public void  setChannelChangeFailureTimeout(Long channelChangeFailureTimeout) {
 		this.channelChangeFailureTimeout = channelChangeFailureTimeout;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -566,6 +601,7 @@ Note that, during the period of time over which Sample statistics are stored, th
 	 */
 	public MainStream withChannelChangeFailureTimeout(Long channelChangeFailureTimeout) {
 		this.channelChangeFailureTimeout = channelChangeFailureTimeout;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -591,6 +627,7 @@ If this parameter is set to an empty string, no PacketsLostByEvent stats will be
 	 */
 	public void  setPacketsLostByEventHistogramIntervals(Long packetsLostByEventHistogramIntervals) {
 		this.packetsLostByEventHistogramIntervals = packetsLostByEventHistogramIntervals;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -604,6 +641,7 @@ If this parameter is set to an empty string, no PacketsLostByEvent stats will be
 	 */
 	public MainStream withPacketsLostByEventHistogramIntervals(Long packetsLostByEventHistogramIntervals) {
 		this.packetsLostByEventHistogramIntervals = packetsLostByEventHistogramIntervals;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -629,6 +667,7 @@ If this parameter is set to an empty string, no DelayBetweenLossEvents stats wil
 	 */
 	public void  setDelayBetweenLossEventsHistogramIntervals(Long delayBetweenLossEventsHistogramIntervals) {
 		this.delayBetweenLossEventsHistogramIntervals = delayBetweenLossEventsHistogramIntervals;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -642,6 +681,7 @@ If this parameter is set to an empty string, no DelayBetweenLossEvents stats wil
 	 */
 	public MainStream withDelayBetweenLossEventsHistogramIntervals(Long delayBetweenLossEventsHistogramIntervals) {
 		this.delayBetweenLossEventsHistogramIntervals = delayBetweenLossEventsHistogramIntervals;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -667,6 +707,7 @@ If this parameter is set to an empty string, no DurationSevereLossEvents stats w
 	 */
 	public void  setDurationSevereLossEventsHistogramIntervals(Long durationSevereLossEventsHistogramIntervals) {
 		this.durationSevereLossEventsHistogramIntervals = durationSevereLossEventsHistogramIntervals;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -680,6 +721,7 @@ If this parameter is set to an empty string, no DurationSevereLossEvents stats w
 	 */
 	public MainStream withDurationSevereLossEventsHistogramIntervals(Long durationSevereLossEventsHistogramIntervals) {
 		this.durationSevereLossEventsHistogramIntervals = durationSevereLossEventsHistogramIntervals;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.servicemonitoring.globaloperation;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Global operations sample statistics.
@@ -69,6 +71,11 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	@XmlList
 	public Collection<String> portalResponse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Sample() {
 	}
 
@@ -91,6 +98,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public void  setMinimumPortalResponse(Long minimumPortalResponse) {
 		this.minimumPortalResponse = minimumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -102,6 +110,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public Sample withMinimumPortalResponse(Long minimumPortalResponse) {
 		this.minimumPortalResponse = minimumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -123,6 +132,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public void  setMaximumPortalResponse(Long maximumPortalResponse) {
 		this.maximumPortalResponse = maximumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -134,6 +144,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public Sample withMaximumPortalResponse(Long maximumPortalResponse) {
 		this.maximumPortalResponse = maximumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -158,6 +169,27 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 		return portalResponse;
 	}
 
+	/**
+	 * Read the each entry is a colon separated list of time periods (in milliseconds) between the instant of transmitting TCP SYN (the three way handshake) prior to first HTTP message, and receiving the last HTTP message carrying the information.  
+
+A comma separates measurements made in different sample intervals, while a colon separates individual measurements within a specific sample interval.
+
+If no PortalResponse measurements were made during a specific sample interval then this MUST be represented by an empty string.
+
+Example: ,837:453:1234,759,,,923:698,,,1284
+
+Here there were no measurements during first sample interval, three during the second, one during the third, etc.
+
+The statistics values in this list MUST be in time order, with the oldest one first and the most recent one last.  This applies both to sample intervals and to individual measurements during a specific sample interval. {{nopattern}}
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPortalResponse() {
+		return portalResponse == null ? Collections.emptyList() : portalResponse;
+	}
+
 	/**
 	 * Set the each entry is a colon separated list of time periods (in milliseconds) between the instant of transmitting TCP SYN (the three way handshake) prior to first HTTP message, and receiving the last HTTP message carrying the information.  
 
@@ -176,6 +208,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public void  setPortalResponse(Collection<String> portalResponse) {
 		this.portalResponse = portalResponse;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -197,6 +230,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public Sample withPortalResponse(String string) {
 		getPortalResponse().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
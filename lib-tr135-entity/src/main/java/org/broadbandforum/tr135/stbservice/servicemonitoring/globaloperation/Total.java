@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Global operations total statistics.
@@ -55,6 +56,11 @@ public class Total {
 	@XmlElement(name = "MaximumPortalResponse")
 	public Long maximumPortalResponse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Total() {
 	}
 
@@ -77,6 +83,7 @@ public class Total {
 	 */
 	public void  setServiceAccessTime(Long serviceAccessTime) {
 		this.serviceAccessTime = serviceAccessTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -88,6 +95,7 @@ public class Total {
 	 */
 	public Total withServiceAccessTime(Long serviceAccessTime) {
 		this.serviceAccessTime = serviceAccessTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -109,6 +117,7 @@ public class Total {
 	 */
 	public void  setMinimumPortalResponse(Long minimumPortalResponse) {
 		this.minimumPortalResponse = minimumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -120,6 +129,7 @@ public class Total {
 	 */
 	public Total withMinimumPortalResponse(Long minimumPortalResponse) {
 		this.minimumPortalResponse = minimumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -141,6 +151,7 @@ public class Total {
 	 */
 	public void  setMaximumPortalResponse(Long maximumPortalResponse) {
 		this.maximumPortalResponse = maximumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -152,6 +163,7 @@ public class Total {
 	 */
 	public Total withMaximumPortalResponse(Long maximumPortalResponse) {
 		this.maximumPortalResponse = maximumPortalResponse;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.eventlog.Entry;
 
 	/**
@@ -57,6 +59,11 @@ public class EventLog {
 	@XmlElement(name = "Entry")
 	public Collection<Entry> entries;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public EventLog() {
 	}
 
@@ -79,6 +86,7 @@ public class EventLog {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -90,6 +98,7 @@ public class EventLog {
 	 */
 	public EventLog withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -99,10 +108,20 @@ public class EventLog {
 	 * @return the value
 	 */
 	public Collection<Entry> getEntries() {
-		if (this.entries == null){ this.entries=new ArrayList<>();}
+		if (!(this.entries instanceof InstanceTable)){ this.entries=InstanceTable.of(this.entries);}
 		return entries;
 	}
 
+	/**
+	 * Read the this object represents an entry (e.g., start session, channel change) in the event log.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Entry> viewEntries() {
+		return entries == null ? Collections.emptyList() : entries;
+	}
+
 	/**
 	 * Set the this object represents an entry (e.g., start session, channel change) in the event log.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.sample.AudioDecoderStats;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.sample.DejitteringStats;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.sample.HighLevelMetricStats;
@@ -127,6 +129,11 @@ If no EC is applied the ''BeforeEC'' statistics provide the same values as the c
 	@XmlElement(name = "HighLevelMetricStats")
 	public Collection<HighLevelMetricStats> highLevelMetricStatss;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Sample() {
 	}
 
@@ -165,6 +172,7 @@ Individual ''SampleSeconds'' values can be less than the ''SampleInterval'', for
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -184,6 +192,7 @@ Individual ''SampleSeconds'' values can be less than the ''SampleInterval'', for
 	 */
 	public Sample withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -205,6 +214,7 @@ Individual ''SampleSeconds'' values can be less than the ''SampleInterval'', for
 	 */
 	public void  setSignificantChanges(Long significantChanges) {
 		this.significantChanges = significantChanges;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -216,6 +226,7 @@ Individual ''SampleSeconds'' values can be less than the ''SampleInterval'', for
 	 */
 	public Sample withSignificantChanges(Long significantChanges) {
 		this.significantChanges = significantChanges;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -237,6 +248,7 @@ Individual ''SampleSeconds'' values can be less than the ''SampleInterval'', for
 	 */
 	public void  setPvrTimeShift(Boolean pvrTimeShift) {
 		this.pvrTimeShift = pvrTimeShift;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -248,6 +260,7 @@ Individual ''SampleSeconds'' values can be less than the ''SampleInterval'', for
 	 */
 	public Sample withPvrTimeShift(Boolean pvrTimeShift) {
 		this.pvrTimeShift = pvrTimeShift;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -466,10 +479,20 @@ If no EC is applied the ''BeforeEC'' statistics provide the same values as the c
 	 * @return the value
 	 */
 	public Collection<HighLevelMetricStats> getHighLevelMetricStatss() {
-		if (this.highLevelMetricStatss == null){ this.highLevelMetricStatss=new ArrayList<>();}
+		if (!(this.highLevelMetricStatss instanceof InstanceTable)){ this.highLevelMetricStatss=InstanceTable.of(this.highLevelMetricStatss);}
 		return highLevelMetricStatss;
 	}
 
+	/**
+	 * Read the high-level metric Sample statistics for this ''ServiceMonitoring'' main stream instance.  One or more different high-level metrics can be supported; this is specified by  {{param|.ServiceMonitoring.MainStream.{i}.Sample.HighLevelMetricStatsNumberOfEntries}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<HighLevelMetricStats> viewHighLevelMetricStatss() {
+		return highLevelMetricStatss == null ? Collections.emptyList() : highLevelMetricStatss;
+	}
+
 	/**
 	 * Set the high-level metric Sample statistics for this ''ServiceMonitoring'' main stream instance.  One or more different high-level metrics can be supported; this is specified by  {{param|.ServiceMonitoring.MainStream.{i}.Sample.HighLevelMetricStatsNumberOfEntries}}.
 	 *
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.total.AudioDecoderStats;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.total.DejitteringStats;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.total.MPEG2TSStats;
@@ -106,6 +107,11 @@ If no EC is applied the ''BeforeEC'' statistics provide the same values as the c
 	@XmlElement(name = "VideoResponseStats")
 	public VideoResponseStats videoResponseStats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Total() {
 	}
 
@@ -136,6 +142,7 @@ Individual {{param}} values can be less than the {{param|ResetTime}}, for severa
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -151,6 +158,7 @@ Individual {{param}} values can be less than the {{param|ResetTime}}, for severa
 	 */
 	public Total withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -172,6 +180,7 @@ Individual {{param}} values can be less than the {{param|ResetTime}}, for severa
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -183,6 +192,7 @@ Individual {{param}} values can be less than the {{param|ResetTime}}, for severa
 	 */
 	public Total withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -204,6 +214,7 @@ Individual {{param}} values can be less than the {{param|ResetTime}}, for severa
 	 */
 	public void  setResetTime(Long resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -215,6 +226,7 @@ Individual {{param}} values can be less than the {{param|ResetTime}}, for severa
 	 */
 	public Total withResetTime(Long resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
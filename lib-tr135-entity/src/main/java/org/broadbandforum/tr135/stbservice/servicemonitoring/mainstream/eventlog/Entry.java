@@ -16,8 +16,8 @@
 package org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.eventlog;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +25,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.eventlog.entry.Parameter;
 
 	/**
@@ -65,6 +69,7 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 * @since 1.4
 	 */
 	@XmlElement(name = "Time")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime time;
 	/**
 	 * This object represents an instance of a parameter that is associated with the Entry object Instance.
@@ -73,6 +78,16 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	@XmlElement(name = "Parameter")
 	public Collection<Parameter> parameters;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Entry() {
 	}
 
@@ -103,6 +118,8 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 */
 	public void  setSequenceNumber(Long sequenceNumber) {
 		this.sequenceNumber = sequenceNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -118,6 +135,8 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 */
 	public Entry withSequenceNumber(Long sequenceNumber) {
 		this.sequenceNumber = sequenceNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -139,6 +158,7 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -150,6 +170,7 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 */
 	public Entry withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -171,6 +192,7 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 */
 	public void  setTime(LocalDateTime time) {
 		this.time = time;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -182,6 +204,7 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 */
 	public Entry withTime(LocalDateTime time) {
 		this.time = time;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -191,10 +214,20 @@ When the value of the parameter exceeds the maximium range, the lowest value of
 	 * @return the value
 	 */
 	public Collection<Parameter> getParameters() {
-		if (this.parameters == null){ this.parameters=new ArrayList<>();}
+		if (!(this.parameters instanceof InstanceTable)){ this.parameters=InstanceTable.of(this.parameters);}
 		return parameters;
 	}
 
+	/**
+	 * Read the this object represents an instance of a parameter that is associated with the Entry object Instance.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Parameter> viewParameters() {
+		return parameters == null ? Collections.emptyList() : parameters;
+	}
+
 	/**
 	 * Set the this object represents an instance of a parameter that is associated with the Entry object Instance.
 	 *
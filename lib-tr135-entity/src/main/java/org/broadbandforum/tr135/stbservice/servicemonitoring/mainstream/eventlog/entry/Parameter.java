@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object represents an instance of a parameter that is associated with the Entry object Instance.
@@ -48,6 +49,11 @@ public class Parameter {
 	@XmlElement(name = "Value")
 	public String value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Parameter() {
 	}
 
@@ -70,6 +76,7 @@ public class Parameter {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -81,6 +88,7 @@ public class Parameter {
 	 */
 	public Parameter withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -102,6 +110,7 @@ public class Parameter {
 	 */
 	public void  setValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -113,6 +122,7 @@ public class Parameter {
 	 */
 	public Parameter withValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
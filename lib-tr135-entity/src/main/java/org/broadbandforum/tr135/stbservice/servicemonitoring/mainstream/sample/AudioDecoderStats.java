@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Audio decoder Sample statistics for this ''ServiceMonitoring'' main stream instance.
@@ -61,6 +62,11 @@ Individual {{param}} values can be less than the sample interval, for several re
 	@XmlElement(name = "DecodingErrors")
 	public Long decodingErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AudioDecoderStats() {
 	}
 
@@ -95,6 +101,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +119,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public AudioDecoderStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +141,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +153,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public AudioDecoderStats withDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +175,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setDecodingErrors(Long decodingErrors) {
 		this.decodingErrors = decodingErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +187,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public AudioDecoderStats withDecodingErrors(Long decodingErrors) {
 		this.decodingErrors = decodingErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
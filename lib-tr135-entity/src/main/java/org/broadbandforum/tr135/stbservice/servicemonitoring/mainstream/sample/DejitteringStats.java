@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * De-jittering Sample statistics for this ''ServiceMonitoring'' main stream instance.
@@ -68,6 +69,11 @@ Individual {{param}} values can be less than the sample interval, for several re
 	@XmlElement(name = "EmptyBufferTime")
 	public Long emptyBufferTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DejitteringStats() {
 	}
 
@@ -102,6 +108,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +126,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public DejitteringStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +148,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -151,6 +160,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public DejitteringStats withOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -172,6 +182,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -183,6 +194,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public DejitteringStats withUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -204,6 +216,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setEmptyBufferTime(Long emptyBufferTime) {
 		this.emptyBufferTime = emptyBufferTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -215,6 +228,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public DejitteringStats withEmptyBufferTime(Long emptyBufferTime) {
 		this.emptyBufferTime = emptyBufferTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * High-level metric Sample statistics for this ''ServiceMonitoring'' main stream instance.  One or more different high-level metrics can be supported; this is specified by  {{param|.ServiceMonitoring.MainStream.{i}.Sample.HighLevelMetricStatsNumberOfEntries}}.
@@ -175,6 +177,16 @@ This parameter can be incremented at any time during a sample interval, and migh
 	@XmlElement(name = "MetricFailures")
 	public Long metricFailures;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public HighLevelMetricStats() {
 	}
 
@@ -197,6 +209,7 @@ This parameter can be incremented at any time during a sample interval, and migh
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -208,6 +221,7 @@ This parameter can be incremented at any time during a sample interval, and migh
 	 */
 	public HighLevelMetricStats withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -233,6 +247,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -246,6 +261,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HighLevelMetricStats withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -267,6 +283,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -278,6 +296,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HighLevelMetricStats withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -299,6 +319,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMetricName(String metricName) {
 		this.metricName = metricName;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -310,6 +332,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HighLevelMetricStats withMetricName(String metricName) {
 		this.metricName = metricName;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -331,6 +355,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMetric1Threshold(Long metric1Threshold) {
 		this.metric1Threshold = metric1Threshold;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -342,6 +367,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HighLevelMetricStats withMetric1Threshold(Long metric1Threshold) {
 		this.metric1Threshold = metric1Threshold;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -363,6 +389,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMetric2Threshold(Long metric2Threshold) {
 		this.metric2Threshold = metric2Threshold;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -374,6 +401,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public HighLevelMetricStats withMetric2Threshold(Long metric2Threshold) {
 		this.metric2Threshold = metric2Threshold;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -407,6 +435,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -424,6 +453,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public HighLevelMetricStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -445,6 +475,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMetric1(Long metric1) {
 		this.metric1 = metric1;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -456,6 +487,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public HighLevelMetricStats withMetric1(Long metric1) {
 		this.metric1 = metric1;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -477,6 +509,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMetric2(Long metric2) {
 		this.metric2 = metric2;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -488,6 +521,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public HighLevelMetricStats withMetric2(Long metric2) {
 		this.metric2 = metric2;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -509,6 +543,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMetric1Failures(Long metric1Failures) {
 		this.metric1Failures = metric1Failures;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -520,6 +555,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public HighLevelMetricStats withMetric1Failures(Long metric1Failures) {
 		this.metric1Failures = metric1Failures;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -541,6 +577,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMetric2Failures(Long metric2Failures) {
 		this.metric2Failures = metric2Failures;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -552,6 +589,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public HighLevelMetricStats withMetric2Failures(Long metric2Failures) {
 		this.metric2Failures = metric2Failures;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -585,6 +623,7 @@ The value for {{param}} is algorithm-specific.
 	 */
 	public void  setMetricSampleInterval(Long metricSampleInterval) {
 		this.metricSampleInterval = metricSampleInterval;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -602,6 +641,7 @@ The value for {{param}} is algorithm-specific.
 	 */
 	public HighLevelMetricStats withMetricSampleInterval(Long metricSampleInterval) {
 		this.metricSampleInterval = metricSampleInterval;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -623,6 +663,7 @@ The value for {{param}} is algorithm-specific.
 	 */
 	public void  setMetricThreshold(Long metricThreshold) {
 		this.metricThreshold = metricThreshold;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -634,6 +675,7 @@ The value for {{param}} is algorithm-specific.
 	 */
 	public HighLevelMetricStats withMetricThreshold(Long metricThreshold) {
 		this.metricThreshold = metricThreshold;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -659,6 +701,7 @@ The interpretation of the metric values is algorithm-specific; the only constrai
 	 */
 	public void  setMetric(Long metric) {
 		this.metric = metric;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -672,6 +715,7 @@ The interpretation of the metric values is algorithm-specific; the only constrai
 	 */
 	public HighLevelMetricStats withMetric(Long metric) {
 		this.metric = metric;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -697,6 +741,7 @@ This parameter can be incremented at any time during a sample interval, and migh
 	 */
 	public void  setMetricFailures(Long metricFailures) {
 		this.metricFailures = metricFailures;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -710,6 +755,7 @@ This parameter can be incremented at any time during a sample interval, and migh
 	 */
 	public HighLevelMetricStats withMetricFailures(Long metricFailures) {
 		this.metricFailures = metricFailures;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * MPEG2-TS Sample statistics for this ''ServiceMonitoring'' main stream instance.
@@ -99,6 +100,11 @@ These statistics are collected before any CA decryption scheme, if used, is appl
 	@XmlElement(name = "PacketDiscontinuityCounterBeforeCA")
 	public Long packetDiscontinuityCounterBeforeCA;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MPEG2TSStats() {
 	}
 
@@ -133,6 +139,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -150,6 +157,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public MPEG2TSStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -171,6 +179,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setTspacketsReceived(Long tspacketsReceived) {
 		this.tspacketsReceived = tspacketsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -182,6 +191,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public MPEG2TSStats withTspacketsReceived(Long tspacketsReceived) {
 		this.tspacketsReceived = tspacketsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -207,6 +217,7 @@ Packets received minus packets drained provides an indication how close the buff
 	 */
 	public void  setTspacketsDrained(Long tspacketsDrained) {
 		this.tspacketsDrained = tspacketsDrained;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -220,6 +231,7 @@ Packets received minus packets drained provides an indication how close the buff
 	 */
 	public MPEG2TSStats withTspacketsDrained(Long tspacketsDrained) {
 		this.tspacketsDrained = tspacketsDrained;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -245,6 +257,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public void  setTssyncByteErrorCount(Long tssyncByteErrorCount) {
 		this.tssyncByteErrorCount = tssyncByteErrorCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -258,6 +271,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public MPEG2TSStats withTssyncByteErrorCount(Long tssyncByteErrorCount) {
 		this.tssyncByteErrorCount = tssyncByteErrorCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -283,6 +297,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public void  setTssyncLossCount(Long tssyncLossCount) {
 		this.tssyncLossCount = tssyncLossCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -296,6 +311,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public MPEG2TSStats withTssyncLossCount(Long tssyncLossCount) {
 		this.tssyncLossCount = tssyncLossCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -321,6 +337,7 @@ These statistics are collected when no CA decryption scheme is in use or after a
 	 */
 	public void  setPacketDiscontinuityCounter(Long packetDiscontinuityCounter) {
 		this.packetDiscontinuityCounter = packetDiscontinuityCounter;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -334,6 +351,7 @@ These statistics are collected when no CA decryption scheme is in use or after a
 	 */
 	public MPEG2TSStats withPacketDiscontinuityCounter(Long packetDiscontinuityCounter) {
 		this.packetDiscontinuityCounter = packetDiscontinuityCounter;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -359,6 +377,7 @@ These statistics are collected before any CA decryption scheme, if used, is appl
 	 */
 	public void  setPacketDiscontinuityCounterBeforeCA(Long packetDiscontinuityCounterBeforeCA) {
 		this.packetDiscontinuityCounterBeforeCA = packetDiscontinuityCounterBeforeCA;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -372,6 +391,7 @@ These statistics are collected before any CA decryption scheme, if used, is appl
 	 */
 	public MPEG2TSStats withPacketDiscontinuityCounterBeforeCA(Long packetDiscontinuityCounterBeforeCA) {
 		this.packetDiscontinuityCounterBeforeCA = packetDiscontinuityCounterBeforeCA;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
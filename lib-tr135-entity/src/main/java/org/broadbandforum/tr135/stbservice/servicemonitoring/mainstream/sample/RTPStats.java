@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.sample;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * RTP Sample statistics for this ''ServiceMonitoring'' main stream instance.
@@ -328,6 +330,11 @@ These statistics are collected before any EC, if available, is applied.
 	@XmlElement(name = "MinimumLossPeriodBeforeEC")
 	public Long minimumLossPeriodBeforeEC;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTPStats() {
 	}
 
@@ -362,6 +369,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -379,6 +387,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public RTPStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -400,6 +409,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setPacketsExpected(Long packetsExpected) {
 		this.packetsExpected = packetsExpected;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -411,6 +421,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public RTPStats withPacketsExpected(Long packetsExpected) {
 		this.packetsExpected = packetsExpected;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -436,6 +447,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsDiscarded(Long packetsDiscarded) {
 		this.packetsDiscarded = packetsDiscarded;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -449,6 +461,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsDiscarded(Long packetsDiscarded) {
 		this.packetsDiscarded = packetsDiscarded;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -474,6 +487,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsOutOfSequence(Long packetsOutOfSequence) {
 		this.packetsOutOfSequence = packetsOutOfSequence;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -487,6 +501,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsOutOfSequence(Long packetsOutOfSequence) {
 		this.packetsOutOfSequence = packetsOutOfSequence;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -512,6 +527,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -525,6 +541,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -550,6 +567,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setPacketsReceivedBeforeEC(Long packetsReceivedBeforeEC) {
 		this.packetsReceivedBeforeEC = packetsReceivedBeforeEC;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -563,6 +581,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withPacketsReceivedBeforeEC(Long packetsReceivedBeforeEC) {
 		this.packetsReceivedBeforeEC = packetsReceivedBeforeEC;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -584,6 +603,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setRetransmitTimeouts(Long retransmitTimeouts) {
 		this.retransmitTimeouts = retransmitTimeouts;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -595,6 +615,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withRetransmitTimeouts(Long retransmitTimeouts) {
 		this.retransmitTimeouts = retransmitTimeouts;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -624,6 +645,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsLost(Long packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -639,6 +661,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsLost(Long packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -668,6 +691,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setPacketsLostBeforeEC(Long packetsLostBeforeEC) {
 		this.packetsLostBeforeEC = packetsLostBeforeEC;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -683,6 +707,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withPacketsLostBeforeEC(Long packetsLostBeforeEC) {
 		this.packetsLostBeforeEC = packetsLostBeforeEC;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -699,6 +724,19 @@ These statistics are collected when no EC is applied or after any EC if availabl
 		return packetsLostByEventHistogram;
 	}
 
+	/**
+	 * Read the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of loss events counted by their length in packets (1 packet, 2 packets, etc.) according to the intervals defined by {{param|##.PacketsLostByEventHistogramIntervals}}.
+
+These statistics are collected when no EC is applied or after any EC if available.
+	 *
+	 * @since 1.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPacketsLostByEventHistogram() {
+		return packetsLostByEventHistogram == null ? Collections.emptyList() : packetsLostByEventHistogram;
+	}
+
 	/**
 	 * Set the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of loss events counted by their length in packets (1 packet, 2 packets, etc.) according to the intervals defined by {{param|##.PacketsLostByEventHistogramIntervals}}.
 
@@ -709,6 +747,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsLostByEventHistogram(Collection<String> packetsLostByEventHistogram) {
 		this.packetsLostByEventHistogram = packetsLostByEventHistogram;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -722,6 +761,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsLostByEventHistogram(String string) {
 		getPacketsLostByEventHistogram().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -738,6 +778,19 @@ These statistics are collected before any EC, if available, is applied.
 		return packetsLostByEventHistogramBeforeEC;
 	}
 
+	/**
+	 * Read the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of loss events counted by their length in packets (1 packet, 2 packets, etc.) according to the intervals defined by {{param|##.PacketsLostByEventHistogramIntervals}}.
+
+These statistics are collected before any EC, if available, is applied.
+	 *
+	 * @since 1.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPacketsLostByEventHistogramBeforeEC() {
+		return packetsLostByEventHistogramBeforeEC == null ? Collections.emptyList() : packetsLostByEventHistogramBeforeEC;
+	}
+
 	/**
 	 * Set the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of loss events counted by their length in packets (1 packet, 2 packets, etc.) according to the intervals defined by {{param|##.PacketsLostByEventHistogramIntervals}}.
 
@@ -748,6 +801,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setPacketsLostByEventHistogramBeforeEC(Collection<String> packetsLostByEventHistogramBeforeEC) {
 		this.packetsLostByEventHistogramBeforeEC = packetsLostByEventHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -761,6 +815,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withPacketsLostByEventHistogramBeforeEC(String string) {
 		getPacketsLostByEventHistogramBeforeEC().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -786,6 +841,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setLossEvents(Long lossEvents) {
 		this.lossEvents = lossEvents;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -799,6 +855,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withLossEvents(Long lossEvents) {
 		this.lossEvents = lossEvents;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -824,6 +881,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setLossEventsBeforeEC(Long lossEventsBeforeEC) {
 		this.lossEventsBeforeEC = lossEventsBeforeEC;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -837,6 +895,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withLossEventsBeforeEC(Long lossEventsBeforeEC) {
 		this.lossEventsBeforeEC = lossEventsBeforeEC;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -853,6 +912,19 @@ These statistics are collected when no EC is applied or after any EC if availabl
 		return delayBetweenLossEventsHistogram;
 	}
 
+	/**
+	 * Read the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of times that the delay (in milliseconds) between two consecutive loss events belongs to each time interval defined by {{param|##.DelayBetweenLossEventsHistogramIntervals}}.
+
+These statistics are collected when no EC is applied or after any EC if available.
+	 *
+	 * @since 1.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDelayBetweenLossEventsHistogram() {
+		return delayBetweenLossEventsHistogram == null ? Collections.emptyList() : delayBetweenLossEventsHistogram;
+	}
+
 	/**
 	 * Set the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of times that the delay (in milliseconds) between two consecutive loss events belongs to each time interval defined by {{param|##.DelayBetweenLossEventsHistogramIntervals}}.
 
@@ -863,6 +935,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setDelayBetweenLossEventsHistogram(Collection<String> delayBetweenLossEventsHistogram) {
 		this.delayBetweenLossEventsHistogram = delayBetweenLossEventsHistogram;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -876,6 +949,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withDelayBetweenLossEventsHistogram(String string) {
 		getDelayBetweenLossEventsHistogram().add(string);
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -892,6 +966,19 @@ These statistics are collected before any EC, if available, is applied.
 		return delayBetweenLossEventsHistogramBeforeEC;
 	}
 
+	/**
+	 * Read the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of times that the delay (in milliseconds) between two consecutive loss events belongs to each time interval defined by {{param|##.DelayBetweenLossEventsHistogramIntervals}}.
+
+These statistics are collected before any EC, if available, is applied.
+	 *
+	 * @since 1.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDelayBetweenLossEventsHistogramBeforeEC() {
+		return delayBetweenLossEventsHistogramBeforeEC == null ? Collections.emptyList() : delayBetweenLossEventsHistogramBeforeEC;
+	}
+
 	/**
 	 * Set the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of times that the delay (in milliseconds) between two consecutive loss events belongs to each time interval defined by {{param|##.DelayBetweenLossEventsHistogramIntervals}}.
 
@@ -902,6 +989,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setDelayBetweenLossEventsHistogramBeforeEC(Collection<String> delayBetweenLossEventsHistogramBeforeEC) {
 		this.delayBetweenLossEventsHistogramBeforeEC = delayBetweenLossEventsHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -915,6 +1003,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withDelayBetweenLossEventsHistogramBeforeEC(String string) {
 		getDelayBetweenLossEventsHistogramBeforeEC().add(string);
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -940,6 +1029,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setSevereLossIndexCount(Long severeLossIndexCount) {
 		this.severeLossIndexCount = severeLossIndexCount;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -953,6 +1043,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withSevereLossIndexCount(Long severeLossIndexCount) {
 		this.severeLossIndexCount = severeLossIndexCount;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -978,6 +1069,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setSevereLossIndexCountBeforeEC(Long severeLossIndexCountBeforeEC) {
 		this.severeLossIndexCountBeforeEC = severeLossIndexCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -991,6 +1083,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withSevereLossIndexCountBeforeEC(Long severeLossIndexCountBeforeEC) {
 		this.severeLossIndexCountBeforeEC = severeLossIndexCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1016,6 +1109,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setAverageLossDistance(Long averageLossDistance) {
 		this.averageLossDistance = averageLossDistance;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1029,6 +1123,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withAverageLossDistance(Long averageLossDistance) {
 		this.averageLossDistance = averageLossDistance;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1054,6 +1149,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setAverageLossDistanceBeforeEC(Long averageLossDistanceBeforeEC) {
 		this.averageLossDistanceBeforeEC = averageLossDistanceBeforeEC;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1067,6 +1163,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withAverageLossDistanceBeforeEC(Long averageLossDistanceBeforeEC) {
 		this.averageLossDistanceBeforeEC = averageLossDistanceBeforeEC;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1092,6 +1189,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setMinimumLossDistance(Long minimumLossDistance) {
 		this.minimumLossDistance = minimumLossDistance;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1105,6 +1203,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withMinimumLossDistance(Long minimumLossDistance) {
 		this.minimumLossDistance = minimumLossDistance;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1130,6 +1229,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setMinimumLossDistanceBeforeEC(Long minimumLossDistanceBeforeEC) {
 		this.minimumLossDistanceBeforeEC = minimumLossDistanceBeforeEC;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1143,6 +1243,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withMinimumLossDistanceBeforeEC(Long minimumLossDistanceBeforeEC) {
 		this.minimumLossDistanceBeforeEC = minimumLossDistanceBeforeEC;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1168,6 +1269,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setSevereLossLengthCount(Long severeLossLengthCount) {
 		this.severeLossLengthCount = severeLossLengthCount;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1181,6 +1283,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withSevereLossLengthCount(Long severeLossLengthCount) {
 		this.severeLossLengthCount = severeLossLengthCount;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1206,6 +1309,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setSevereLossLengthCountBeforeEC(Long severeLossLengthCountBeforeEC) {
 		this.severeLossLengthCountBeforeEC = severeLossLengthCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1219,6 +1323,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withSevereLossLengthCountBeforeEC(Long severeLossLengthCountBeforeEC) {
 		this.severeLossLengthCountBeforeEC = severeLossLengthCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1235,6 +1340,19 @@ These statistics are collected when no EC is applied or after any EC if availabl
 		return durationSevereLossEventsHistogram;
 	}
 
+	/**
+	 * Read the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of severe loss events counted by their duration (in milliseconds) according to the intervals defined by {{param|##.DurationSevereLossEventsHistogramIntervals}}.
+
+These statistics are collected when no EC is applied or after any EC if available.
+	 *
+	 * @since 1.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDurationSevereLossEventsHistogram() {
+		return durationSevereLossEventsHistogram == null ? Collections.emptyList() : durationSevereLossEventsHistogram;
+	}
+
 	/**
 	 * Set the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of severe loss events counted by their duration (in milliseconds) according to the intervals defined by {{param|##.DurationSevereLossEventsHistogramIntervals}}.
 
@@ -1245,6 +1363,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setDurationSevereLossEventsHistogram(Collection<String> durationSevereLossEventsHistogram) {
 		this.durationSevereLossEventsHistogram = durationSevereLossEventsHistogram;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1258,6 +1377,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withDurationSevereLossEventsHistogram(String string) {
 		getDurationSevereLossEventsHistogram().add(string);
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1274,6 +1394,19 @@ These statistics are collected before any EC, if available, is applied.
 		return durationSevereLossEventsHistogramBeforeEC;
 	}
 
+	/**
+	 * Read the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of severe loss events counted by their duration (in milliseconds) according to the intervals defined by {{param|##.DurationSevereLossEventsHistogramIntervals}}.
+
+These statistics are collected before any EC, if available, is applied.
+	 *
+	 * @since 1.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDurationSevereLossEventsHistogramBeforeEC() {
+		return durationSevereLossEventsHistogramBeforeEC == null ? Collections.emptyList() : durationSevereLossEventsHistogramBeforeEC;
+	}
+
 	/**
 	 * Set the {{list}} Each list item is a comma-separated list of unsigned integers that represents, for a sample interval, a histogram of the number of severe loss events counted by their duration (in milliseconds) according to the intervals defined by {{param|##.DurationSevereLossEventsHistogramIntervals}}.
 
@@ -1284,6 +1417,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setDurationSevereLossEventsHistogramBeforeEC(Collection<String> durationSevereLossEventsHistogramBeforeEC) {
 		this.durationSevereLossEventsHistogramBeforeEC = durationSevereLossEventsHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1297,6 +1431,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withDurationSevereLossEventsHistogramBeforeEC(String string) {
 		getDurationSevereLossEventsHistogramBeforeEC().add(string);
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1322,6 +1457,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setMaximumLossPeriod(Long maximumLossPeriod) {
 		this.maximumLossPeriod = maximumLossPeriod;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1335,6 +1471,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withMaximumLossPeriod(Long maximumLossPeriod) {
 		this.maximumLossPeriod = maximumLossPeriod;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1360,6 +1497,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setMaximumLossPeriodBeforeEC(Long maximumLossPeriodBeforeEC) {
 		this.maximumLossPeriodBeforeEC = maximumLossPeriodBeforeEC;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1373,6 +1511,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withMaximumLossPeriodBeforeEC(Long maximumLossPeriodBeforeEC) {
 		this.maximumLossPeriodBeforeEC = maximumLossPeriodBeforeEC;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1398,6 +1537,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setAverageLossPeriod(Long averageLossPeriod) {
 		this.averageLossPeriod = averageLossPeriod;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1411,6 +1551,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withAverageLossPeriod(Long averageLossPeriod) {
 		this.averageLossPeriod = averageLossPeriod;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1436,6 +1577,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setAverageLossPeriodBeforeEC(Long averageLossPeriodBeforeEC) {
 		this.averageLossPeriodBeforeEC = averageLossPeriodBeforeEC;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1449,6 +1591,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withAverageLossPeriodBeforeEC(Long averageLossPeriodBeforeEC) {
 		this.averageLossPeriodBeforeEC = averageLossPeriodBeforeEC;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1474,6 +1617,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setMinimumLossPeriod(Long minimumLossPeriod) {
 		this.minimumLossPeriod = minimumLossPeriod;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1487,6 +1631,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withMinimumLossPeriod(Long minimumLossPeriod) {
 		this.minimumLossPeriod = minimumLossPeriod;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1512,6 +1657,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setMinimumLossPeriodBeforeEC(Long minimumLossPeriodBeforeEC) {
 		this.minimumLossPeriodBeforeEC = minimumLossPeriodBeforeEC;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1525,6 +1671,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withMinimumLossPeriodBeforeEC(Long minimumLossPeriodBeforeEC) {
 		this.minimumLossPeriodBeforeEC = minimumLossPeriodBeforeEC;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
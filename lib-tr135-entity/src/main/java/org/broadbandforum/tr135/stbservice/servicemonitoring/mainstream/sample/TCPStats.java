@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * TCP sample statistics for this ''ServiceMonitoring'' main stream instance.
@@ -68,6 +69,11 @@ Individual {{param}} values can be less than the sample interval, for several re
 	@XmlElement(name = "BytesReceived")
 	public Long bytesReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TCPStats() {
 	}
 
@@ -102,6 +108,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +126,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public TCPStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +148,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -151,6 +160,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public TCPStats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -172,6 +182,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setPacketsRetransmitted(Long packetsRetransmitted) {
 		this.packetsRetransmitted = packetsRetransmitted;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -183,6 +194,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public TCPStats withPacketsRetransmitted(Long packetsRetransmitted) {
 		this.packetsRetransmitted = packetsRetransmitted;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -204,6 +216,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -215,6 +228,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public TCPStats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Video decoder Sample statistics for this ''ServiceMonitoring'' main stream instance.
@@ -145,6 +146,11 @@ Individual {{param}} values can be less than the sample interval, for several re
 	@XmlElement(name = "AVResynchCounter")
 	public Long avresynchCounter;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VideoDecoderStats() {
 	}
 
@@ -179,6 +185,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -196,6 +203,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -217,6 +225,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setFrameRate(Long frameRate) {
 		this.frameRate = frameRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -228,6 +237,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withFrameRate(Long frameRate) {
 		this.frameRate = frameRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -249,6 +259,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -260,6 +271,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -281,6 +293,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setLostFrames(Long lostFrames) {
 		this.lostFrames = lostFrames;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -292,6 +305,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withLostFrames(Long lostFrames) {
 		this.lostFrames = lostFrames;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -313,6 +327,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setConcealedFrames(Long concealedFrames) {
 		this.concealedFrames = concealedFrames;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -324,6 +339,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withConcealedFrames(Long concealedFrames) {
 		this.concealedFrames = concealedFrames;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -345,6 +361,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setIdecodedFrames(Long idecodedFrames) {
 		this.idecodedFrames = idecodedFrames;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -356,6 +373,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withIdecodedFrames(Long idecodedFrames) {
 		this.idecodedFrames = idecodedFrames;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -377,6 +395,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setIlostFrames(Long ilostFrames) {
 		this.ilostFrames = ilostFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -388,6 +407,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withIlostFrames(Long ilostFrames) {
 		this.ilostFrames = ilostFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -409,6 +429,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setIconcealedFrames(Long iconcealedFrames) {
 		this.iconcealedFrames = iconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -420,6 +441,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withIconcealedFrames(Long iconcealedFrames) {
 		this.iconcealedFrames = iconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -441,6 +463,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setPdecodedFrames(Long pdecodedFrames) {
 		this.pdecodedFrames = pdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -452,6 +475,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withPdecodedFrames(Long pdecodedFrames) {
 		this.pdecodedFrames = pdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -473,6 +497,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setPlostFrames(Long plostFrames) {
 		this.plostFrames = plostFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -484,6 +509,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withPlostFrames(Long plostFrames) {
 		this.plostFrames = plostFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -505,6 +531,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setPconcealedFrames(Long pconcealedFrames) {
 		this.pconcealedFrames = pconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -516,6 +543,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withPconcealedFrames(Long pconcealedFrames) {
 		this.pconcealedFrames = pconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -537,6 +565,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setBdecodedFrames(Long bdecodedFrames) {
 		this.bdecodedFrames = bdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -548,6 +577,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withBdecodedFrames(Long bdecodedFrames) {
 		this.bdecodedFrames = bdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -569,6 +599,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setBlostFrames(Long blostFrames) {
 		this.blostFrames = blostFrames;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -580,6 +611,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withBlostFrames(Long blostFrames) {
 		this.blostFrames = blostFrames;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -601,6 +633,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setBconcealedFrames(Long bconcealedFrames) {
 		this.bconcealedFrames = bconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -612,6 +645,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withBconcealedFrames(Long bconcealedFrames) {
 		this.bconcealedFrames = bconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -633,6 +667,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setAvresynchCounter(Long avresynchCounter) {
 		this.avresynchCounter = avresynchCounter;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -644,6 +679,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoDecoderStats withAvresynchCounter(Long avresynchCounter) {
 		this.avresynchCounter = avresynchCounter;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
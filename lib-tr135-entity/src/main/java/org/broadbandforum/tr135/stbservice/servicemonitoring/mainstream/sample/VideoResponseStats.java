@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.sample;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Video response Sample statistics for this ''ServiceMonitoring'' main stream instance.
@@ -162,6 +164,11 @@ Only meaningful for VoD.
 	@XmlElement(name = "ChannelChangeFailures")
 	public Long channelChangeFailures;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VideoResponseStats() {
 	}
 
@@ -196,6 +203,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -213,6 +221,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoResponseStats withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -234,6 +243,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setAverageVideoSystemResponse(Long averageVideoSystemResponse) {
 		this.averageVideoSystemResponse = averageVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -245,6 +255,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoResponseStats withAverageVideoSystemResponse(Long averageVideoSystemResponse) {
 		this.averageVideoSystemResponse = averageVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -266,6 +277,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMinimumVideoSystemResponse(Long minimumVideoSystemResponse) {
 		this.minimumVideoSystemResponse = minimumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -277,6 +289,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoResponseStats withMinimumVideoSystemResponse(Long minimumVideoSystemResponse) {
 		this.minimumVideoSystemResponse = minimumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -298,6 +311,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMaximumVideoSystemResponse(Long maximumVideoSystemResponse) {
 		this.maximumVideoSystemResponse = maximumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -309,6 +323,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoResponseStats withMaximumVideoSystemResponse(Long maximumVideoSystemResponse) {
 		this.maximumVideoSystemResponse = maximumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -330,6 +345,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setAverageVoDControlResponse(Long averageVoDControlResponse) {
 		this.averageVoDControlResponse = averageVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -341,6 +357,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoResponseStats withAverageVoDControlResponse(Long averageVoDControlResponse) {
 		this.averageVoDControlResponse = averageVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -362,6 +379,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMinimumVoDControlResponse(Long minimumVoDControlResponse) {
 		this.minimumVoDControlResponse = minimumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -373,6 +391,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoResponseStats withMinimumVoDControlResponse(Long minimumVoDControlResponse) {
 		this.minimumVoDControlResponse = minimumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -394,6 +413,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public void  setMaximumVoDControlResponse(Long maximumVoDControlResponse) {
 		this.maximumVoDControlResponse = maximumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -405,6 +425,7 @@ Individual {{param}} values can be less than the sample interval, for several re
 	 */
 	public VideoResponseStats withMaximumVoDControlResponse(Long maximumVoDControlResponse) {
 		this.maximumVoDControlResponse = maximumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -429,6 +450,27 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 		return vodControlResponse;
 	}
 
+	/**
+	 * Read the each entry is a colon separated list of time periods in milliseconds between the instant of transmitting a RTSP PLAY command to start playing stream, and displaying the first I-frame of unicast stream.  Only measured when started from a non-play state, i.e. either idle or paused.
+
+A comma separates measurements made in different sample intervals, while a colon separates individual measurements within a specific sample interval.
+
+If no VoDControlResponse measurements were made during a specific sample interval then this MUST be represented by an empty string.
+
+Example: ,837:453:1234,759,,,923:698,,,1284
+
+Here there were no measurements during first sample interval, three during the second, one during the third, etc.
+
+The statistics values in this list MUST be in time order, with the oldest one first and the most recent one last.  This applies both to sample intervals and to individual measurements during a specific sample interval. {{nopattern}}
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVodControlResponse() {
+		return vodControlResponse == null ? Collections.emptyList() : vodControlResponse;
+	}
+
 	/**
 	 * Set the each entry is a colon separated list of time periods in milliseconds between the instant of transmitting a RTSP PLAY command to start playing stream, and displaying the first I-frame of unicast stream.  Only measured when started from a non-play state, i.e. either idle or paused.
 
@@ -447,6 +489,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public void  setVodControlResponse(Collection<String> vodControlResponse) {
 		this.vodControlResponse = vodControlResponse;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -468,6 +511,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public VideoResponseStats withVodControlResponse(String string) {
 		getVodControlResponse().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -492,6 +536,27 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 		return videoSystemResponse;
 	}
 
+	/**
+	 * Read the each entry is a colon separated list of time periods in milliseconds between the instant of transmitting an IGMP JOIN or an RTSP SETUP command and the display of the first I frame that occurred for this AV stream during the sample interval.
+
+A comma separates measurements made in different sample intervals, while a colon separates individual measurements within a specific sample interval.
+
+If no VideoSystemResponse measurements were made during a specific sample interval then this MUST be represented by an empty string.
+
+Example: ,837:453:1234,759,,,923:698,,,1284
+
+Here there were no measurements during first sample interval, three during the second, one during the third, etc.
+
+The statistics values in this list MUST be in time order, with the oldest one first and the most recent one last.  This applies both to sample intervals and to individual measurements during a specific sample interval. {{nopattern}}
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVideoSystemResponse() {
+		return videoSystemResponse == null ? Collections.emptyList() : videoSystemResponse;
+	}
+
 	/**
 	 * Set the each entry is a colon separated list of time periods in milliseconds between the instant of transmitting an IGMP JOIN or an RTSP SETUP command and the display of the first I frame that occurred for this AV stream during the sample interval.
 
@@ -510,6 +575,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public void  setVideoSystemResponse(Collection<String> videoSystemResponse) {
 		this.videoSystemResponse = videoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -531,6 +597,7 @@ The statistics values in this list MUST be in time order, with the oldest one fi
 	 */
 	public VideoResponseStats withVideoSystemResponse(String string) {
 		getVideoSystemResponse().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -556,6 +623,7 @@ Only meaningful for VoD.
 	 */
 	public void  setRequestedTransactions(Long requestedTransactions) {
 		this.requestedTransactions = requestedTransactions;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -569,6 +637,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withRequestedTransactions(Long requestedTransactions) {
 		this.requestedTransactions = requestedTransactions;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -594,6 +663,7 @@ Only meaningful for VoD.
 	 */
 	public void  setAccessSuccesses(Long accessSuccesses) {
 		this.accessSuccesses = accessSuccesses;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -607,6 +677,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withAccessSuccesses(Long accessSuccesses) {
 		this.accessSuccesses = accessSuccesses;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -632,6 +703,7 @@ Only meaningful for VoD.
 	 */
 	public void  setCompletionCount(Long completionCount) {
 		this.completionCount = completionCount;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -645,6 +717,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withCompletionCount(Long completionCount) {
 		this.completionCount = completionCount;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -666,6 +739,7 @@ Only meaningful for VoD.
 	 */
 	public void  setChannelChangeFailures(Long channelChangeFailures) {
 		this.channelChangeFailures = channelChangeFailures;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -677,6 +751,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withChannelChangeFailures(Long channelChangeFailures) {
 		this.channelChangeFailures = channelChangeFailures;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total audio decoder application layer statistics for this ''ServiceMonitoring'' main stream instance.
@@ -65,6 +66,11 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	@XmlElement(name = "DecodingErrors")
 	public Long decodingErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AudioDecoderStats() {
 	}
 
@@ -103,6 +109,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +129,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public AudioDecoderStats withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +151,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +163,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public AudioDecoderStats withDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -175,6 +185,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setDecodingErrors(Long decodingErrors) {
 		this.decodingErrors = decodingErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +197,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public AudioDecoderStats withDecodingErrors(Long decodingErrors) {
 		this.decodingErrors = decodingErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
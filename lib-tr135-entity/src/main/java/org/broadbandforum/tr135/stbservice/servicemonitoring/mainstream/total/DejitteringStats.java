@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total de-jittering statistics for this ''ServiceMonitoring'' main stream instance.
@@ -73,6 +74,11 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long underruns;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DejitteringStats() {
 	}
 
@@ -111,6 +117,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -130,6 +137,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public DejitteringStats withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -151,6 +159,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setEmptyBufferTime(Long emptyBufferTime) {
 		this.emptyBufferTime = emptyBufferTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -162,6 +171,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public DejitteringStats withEmptyBufferTime(Long emptyBufferTime) {
 		this.emptyBufferTime = emptyBufferTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -183,6 +193,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -194,6 +205,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public DejitteringStats withOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -215,6 +227,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -226,6 +239,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public DejitteringStats withUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
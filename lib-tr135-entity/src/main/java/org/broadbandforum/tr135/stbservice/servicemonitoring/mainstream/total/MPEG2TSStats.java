@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total MPEG2-TS statistics for this ''ServiceMonitoring'' main stream instance.
@@ -94,6 +95,11 @@ These statistics are collected before any CA decryption scheme, if used, is appl
 	@XmlElement(name = "PacketDiscontinuityCounterBeforeCA")
 	public Long packetDiscontinuityCounterBeforeCA;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MPEG2TSStats() {
 	}
 
@@ -132,6 +138,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -151,6 +158,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public MPEG2TSStats withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -172,6 +180,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTspacketsReceived(Long tspacketsReceived) {
 		this.tspacketsReceived = tspacketsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -183,6 +192,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public MPEG2TSStats withTspacketsReceived(Long tspacketsReceived) {
 		this.tspacketsReceived = tspacketsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -208,6 +218,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public void  setTssyncByteErrorCount(Long tssyncByteErrorCount) {
 		this.tssyncByteErrorCount = tssyncByteErrorCount;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -221,6 +232,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public MPEG2TSStats withTssyncByteErrorCount(Long tssyncByteErrorCount) {
 		this.tssyncByteErrorCount = tssyncByteErrorCount;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -246,6 +258,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public void  setTssyncLossCount(Long tssyncLossCount) {
 		this.tssyncLossCount = tssyncLossCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -259,6 +272,7 @@ Not meaningful when MPEG2-TS is transported over IP.
 	 */
 	public MPEG2TSStats withTssyncLossCount(Long tssyncLossCount) {
 		this.tssyncLossCount = tssyncLossCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -284,6 +298,7 @@ These statistics are collected when no CA decryption scheme is in use or after a
 	 */
 	public void  setPacketDiscontinuityCounter(Long packetDiscontinuityCounter) {
 		this.packetDiscontinuityCounter = packetDiscontinuityCounter;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -297,6 +312,7 @@ These statistics are collected when no CA decryption scheme is in use or after a
 	 */
 	public MPEG2TSStats withPacketDiscontinuityCounter(Long packetDiscontinuityCounter) {
 		this.packetDiscontinuityCounter = packetDiscontinuityCounter;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -322,6 +338,7 @@ These statistics are collected before any CA decryption scheme, if used, is appl
 	 */
 	public void  setPacketDiscontinuityCounterBeforeCA(Long packetDiscontinuityCounterBeforeCA) {
 		this.packetDiscontinuityCounterBeforeCA = packetDiscontinuityCounterBeforeCA;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -335,6 +352,7 @@ These statistics are collected before any CA decryption scheme, if used, is appl
 	 */
 	public MPEG2TSStats withPacketDiscontinuityCounterBeforeCA(Long packetDiscontinuityCounterBeforeCA) {
 		this.packetDiscontinuityCounterBeforeCA = packetDiscontinuityCounterBeforeCA;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
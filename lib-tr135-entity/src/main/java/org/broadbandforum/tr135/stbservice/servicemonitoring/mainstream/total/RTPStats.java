@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total RTP statistics for this ''ServiceMonitoring'' main stream instance.
@@ -233,6 +234,11 @@ If RTP/AVPF is not used this parameter does not increment
 	@XmlElement(name = "RetransmitTimeouts")
 	public Long retransmitTimeouts;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RTPStats() {
 	}
 
@@ -271,6 +277,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -290,6 +297,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public RTPStats withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -311,6 +319,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setPacketsExpected(Long packetsExpected) {
 		this.packetsExpected = packetsExpected;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -322,6 +331,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public RTPStats withPacketsExpected(Long packetsExpected) {
 		this.packetsExpected = packetsExpected;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -347,6 +357,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsDiscarded(Long packetsDiscarded) {
 		this.packetsDiscarded = packetsDiscarded;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -360,6 +371,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsDiscarded(Long packetsDiscarded) {
 		this.packetsDiscarded = packetsDiscarded;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -385,6 +397,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsOutOfSequence(Long packetsOutOfSequence) {
 		this.packetsOutOfSequence = packetsOutOfSequence;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -398,6 +411,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsOutOfSequence(Long packetsOutOfSequence) {
 		this.packetsOutOfSequence = packetsOutOfSequence;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -423,6 +437,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -436,6 +451,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -461,6 +477,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setPacketsReceivedBeforeEC(Long packetsReceivedBeforeEC) {
 		this.packetsReceivedBeforeEC = packetsReceivedBeforeEC;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -474,6 +491,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withPacketsReceivedBeforeEC(Long packetsReceivedBeforeEC) {
 		this.packetsReceivedBeforeEC = packetsReceivedBeforeEC;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -499,6 +517,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsLost(Long packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -512,6 +531,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsLost(Long packetsLost) {
 		this.packetsLost = packetsLost;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -537,6 +557,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setPacketsLostBeforeEC(Long packetsLostBeforeEC) {
 		this.packetsLostBeforeEC = packetsLostBeforeEC;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -550,6 +571,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withPacketsLostBeforeEC(Long packetsLostBeforeEC) {
 		this.packetsLostBeforeEC = packetsLostBeforeEC;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -575,6 +597,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setPacketsLostByEventHistogram(Long packetsLostByEventHistogram) {
 		this.packetsLostByEventHistogram = packetsLostByEventHistogram;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -588,6 +611,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withPacketsLostByEventHistogram(Long packetsLostByEventHistogram) {
 		this.packetsLostByEventHistogram = packetsLostByEventHistogram;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -613,6 +637,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setPacketsLostByEventHistogramBeforeEC(Long packetsLostByEventHistogramBeforeEC) {
 		this.packetsLostByEventHistogramBeforeEC = packetsLostByEventHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -626,6 +651,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withPacketsLostByEventHistogramBeforeEC(Long packetsLostByEventHistogramBeforeEC) {
 		this.packetsLostByEventHistogramBeforeEC = packetsLostByEventHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -651,6 +677,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setLossEvents(Long lossEvents) {
 		this.lossEvents = lossEvents;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -664,6 +691,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withLossEvents(Long lossEvents) {
 		this.lossEvents = lossEvents;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -689,6 +717,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setLossEventsBeforeEC(Long lossEventsBeforeEC) {
 		this.lossEventsBeforeEC = lossEventsBeforeEC;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -702,6 +731,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withLossEventsBeforeEC(Long lossEventsBeforeEC) {
 		this.lossEventsBeforeEC = lossEventsBeforeEC;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -727,6 +757,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setDelayBetweenLossEventsHistogram(Long delayBetweenLossEventsHistogram) {
 		this.delayBetweenLossEventsHistogram = delayBetweenLossEventsHistogram;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -740,6 +771,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withDelayBetweenLossEventsHistogram(Long delayBetweenLossEventsHistogram) {
 		this.delayBetweenLossEventsHistogram = delayBetweenLossEventsHistogram;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -765,6 +797,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setDelayBetweenLossEventsHistogramBeforeEC(Long delayBetweenLossEventsHistogramBeforeEC) {
 		this.delayBetweenLossEventsHistogramBeforeEC = delayBetweenLossEventsHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -778,6 +811,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withDelayBetweenLossEventsHistogramBeforeEC(Long delayBetweenLossEventsHistogramBeforeEC) {
 		this.delayBetweenLossEventsHistogramBeforeEC = delayBetweenLossEventsHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -803,6 +837,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setSevereLossIndexCount(Long severeLossIndexCount) {
 		this.severeLossIndexCount = severeLossIndexCount;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -816,6 +851,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withSevereLossIndexCount(Long severeLossIndexCount) {
 		this.severeLossIndexCount = severeLossIndexCount;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -841,6 +877,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setSevereLossIndexCountBeforeEC(Long severeLossIndexCountBeforeEC) {
 		this.severeLossIndexCountBeforeEC = severeLossIndexCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -854,6 +891,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withSevereLossIndexCountBeforeEC(Long severeLossIndexCountBeforeEC) {
 		this.severeLossIndexCountBeforeEC = severeLossIndexCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -879,6 +917,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setSevereLossLengthCount(Long severeLossLengthCount) {
 		this.severeLossLengthCount = severeLossLengthCount;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -892,6 +931,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withSevereLossLengthCount(Long severeLossLengthCount) {
 		this.severeLossLengthCount = severeLossLengthCount;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -917,6 +957,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setSevereLossLengthCountBeforeEC(Long severeLossLengthCountBeforeEC) {
 		this.severeLossLengthCountBeforeEC = severeLossLengthCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -930,6 +971,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withSevereLossLengthCountBeforeEC(Long severeLossLengthCountBeforeEC) {
 		this.severeLossLengthCountBeforeEC = severeLossLengthCountBeforeEC;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -955,6 +997,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public void  setDurationSevereLossEventsHistogram(Long durationSevereLossEventsHistogram) {
 		this.durationSevereLossEventsHistogram = durationSevereLossEventsHistogram;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -968,6 +1011,7 @@ These statistics are collected when no EC is applied or after any EC if availabl
 	 */
 	public RTPStats withDurationSevereLossEventsHistogram(Long durationSevereLossEventsHistogram) {
 		this.durationSevereLossEventsHistogram = durationSevereLossEventsHistogram;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -993,6 +1037,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public void  setDurationSevereLossEventsHistogramBeforeEC(Long durationSevereLossEventsHistogramBeforeEC) {
 		this.durationSevereLossEventsHistogramBeforeEC = durationSevereLossEventsHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1006,6 +1051,7 @@ These statistics are collected before any EC, if available, is applied.
 	 */
 	public RTPStats withDurationSevereLossEventsHistogramBeforeEC(Long durationSevereLossEventsHistogramBeforeEC) {
 		this.durationSevereLossEventsHistogramBeforeEC = durationSevereLossEventsHistogramBeforeEC;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1031,6 +1077,7 @@ If RTP/AVPF is not used this parameter does not increment
 	 */
 	public void  setRetransmitTimeouts(Long retransmitTimeouts) {
 		this.retransmitTimeouts = retransmitTimeouts;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1044,6 +1091,7 @@ If RTP/AVPF is not used this parameter does not increment
 	 */
 	public RTPStats withRetransmitTimeouts(Long retransmitTimeouts) {
 		this.retransmitTimeouts = retransmitTimeouts;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total TCP statistics for this ServiceMonitoring main stream instance.
@@ -74,6 +75,11 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long bytesReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TCPStats() {
 	}
 
@@ -112,6 +118,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -131,6 +138,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public TCPStats withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -152,6 +160,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -163,6 +172,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public TCPStats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -184,6 +194,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setPacketsRetransmitted(Long packetsRetransmitted) {
 		this.packetsRetransmitted = packetsRetransmitted;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -195,6 +206,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public TCPStats withPacketsRetransmitted(Long packetsRetransmitted) {
 		this.packetsRetransmitted = packetsRetransmitted;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -216,6 +228,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -227,6 +240,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public TCPStats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total video decoder application layer statistics for this ''ServiceMonitoring'' main stream instance.
@@ -152,6 +153,11 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	@XmlElement(name = "AVResynchCounter")
 	public Long avresynchCounter;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VideoDecoderStats() {
 	}
 
@@ -190,6 +196,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -209,6 +216,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -230,6 +238,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setFrameRate(Long frameRate) {
 		this.frameRate = frameRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -241,6 +250,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withFrameRate(Long frameRate) {
 		this.frameRate = frameRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -262,6 +272,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -273,6 +284,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withDecodedFrames(Long decodedFrames) {
 		this.decodedFrames = decodedFrames;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -294,6 +306,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setLostFrames(Long lostFrames) {
 		this.lostFrames = lostFrames;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -305,6 +318,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withLostFrames(Long lostFrames) {
 		this.lostFrames = lostFrames;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -326,6 +340,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setConcealedFrames(Long concealedFrames) {
 		this.concealedFrames = concealedFrames;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -337,6 +352,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withConcealedFrames(Long concealedFrames) {
 		this.concealedFrames = concealedFrames;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -358,6 +374,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setIdecodedFrames(Long idecodedFrames) {
 		this.idecodedFrames = idecodedFrames;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -369,6 +386,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withIdecodedFrames(Long idecodedFrames) {
 		this.idecodedFrames = idecodedFrames;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -390,6 +408,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setIlostFrames(Long ilostFrames) {
 		this.ilostFrames = ilostFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -401,6 +420,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withIlostFrames(Long ilostFrames) {
 		this.ilostFrames = ilostFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -422,6 +442,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setIconcealedFrames(Long iconcealedFrames) {
 		this.iconcealedFrames = iconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -433,6 +454,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withIconcealedFrames(Long iconcealedFrames) {
 		this.iconcealedFrames = iconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -454,6 +476,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setPdecodedFrames(Long pdecodedFrames) {
 		this.pdecodedFrames = pdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -465,6 +488,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withPdecodedFrames(Long pdecodedFrames) {
 		this.pdecodedFrames = pdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -486,6 +510,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setPlostFrames(Long plostFrames) {
 		this.plostFrames = plostFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -497,6 +522,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withPlostFrames(Long plostFrames) {
 		this.plostFrames = plostFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -518,6 +544,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setPconcealedFrames(Long pconcealedFrames) {
 		this.pconcealedFrames = pconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -529,6 +556,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withPconcealedFrames(Long pconcealedFrames) {
 		this.pconcealedFrames = pconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -550,6 +578,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setBdecodedFrames(Long bdecodedFrames) {
 		this.bdecodedFrames = bdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -561,6 +590,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withBdecodedFrames(Long bdecodedFrames) {
 		this.bdecodedFrames = bdecodedFrames;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -582,6 +612,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setBlostFrames(Long blostFrames) {
 		this.blostFrames = blostFrames;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -593,6 +624,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withBlostFrames(Long blostFrames) {
 		this.blostFrames = blostFrames;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -614,6 +646,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setBconcealedFrames(Long bconcealedFrames) {
 		this.bconcealedFrames = bconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -625,6 +658,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withBconcealedFrames(Long bconcealedFrames) {
 		this.bconcealedFrames = bconcealedFrames;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -646,6 +680,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setAvresynchCounter(Long avresynchCounter) {
 		this.avresynchCounter = avresynchCounter;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -657,6 +692,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoDecoderStats withAvresynchCounter(Long avresynchCounter) {
 		this.avresynchCounter = avresynchCounter;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr135.stbservice.servicemonitoring.mainstream.total;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total video response statistics for this ''ServiceMonitoring'' main stream instance.
@@ -124,6 +126,11 @@ Only meaningful for VoD.
 	@XmlElement(name = "MaximumVideoSystemResponse")
 	public Long maximumVideoSystemResponse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VideoResponseStats() {
 	}
 
@@ -162,6 +169,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -181,6 +189,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoResponseStats withTotalSeconds(Long totalSeconds) {
 		this.totalSeconds = totalSeconds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -202,6 +211,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setChannelChangeFailures(Long channelChangeFailures) {
 		this.channelChangeFailures = channelChangeFailures;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -213,6 +223,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoResponseStats withChannelChangeFailures(Long channelChangeFailures) {
 		this.channelChangeFailures = channelChangeFailures;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -227,6 +238,17 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 		return channelFailures;
 	}
 
+	/**
+	 * Read the each entry represents a channel for which a channel change failed. Channels MAY be described as IP address, URL or Service names as appropriate. Only last 10 failures are required to be reported.
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewChannelFailures() {
+		return channelFailures == null ? Collections.emptyList() : channelFailures;
+	}
+
 	/**
 	 * Set the each entry represents a channel for which a channel change failed. Channels MAY be described as IP address, URL or Service names as appropriate. Only last 10 failures are required to be reported.
 	 *
@@ -235,6 +257,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setChannelFailures(Collection<String> channelFailures) {
 		this.channelFailures = channelFailures;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -246,6 +269,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoResponseStats withChannelFailures(String string) {
 		getChannelFailures().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -267,6 +291,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setMinimumVoDControlResponse(Long minimumVoDControlResponse) {
 		this.minimumVoDControlResponse = minimumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -278,6 +303,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoResponseStats withMinimumVoDControlResponse(Long minimumVoDControlResponse) {
 		this.minimumVoDControlResponse = minimumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -299,6 +325,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public void  setMaximumVoDControlResponse(Long maximumVoDControlResponse) {
 		this.maximumVoDControlResponse = maximumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -310,6 +337,7 @@ Individual {{param}} values can be less than {{param|.ServiceMonitoring.MainStre
 	 */
 	public VideoResponseStats withMaximumVoDControlResponse(Long maximumVoDControlResponse) {
 		this.maximumVoDControlResponse = maximumVoDControlResponse;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -335,6 +363,7 @@ Only meaningful for VoD.
 	 */
 	public void  setRequestedTransactions(Long requestedTransactions) {
 		this.requestedTransactions = requestedTransactions;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -348,6 +377,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withRequestedTransactions(Long requestedTransactions) {
 		this.requestedTransactions = requestedTransactions;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -373,6 +403,7 @@ Only meaningful for VoD.
 	 */
 	public void  setAccessSuccesses(Long accessSuccesses) {
 		this.accessSuccesses = accessSuccesses;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -386,6 +417,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withAccessSuccesses(Long accessSuccesses) {
 		this.accessSuccesses = accessSuccesses;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -411,6 +443,7 @@ Only meaningful for VoD.
 	 */
 	public void  setCompletionCount(Long completionCount) {
 		this.completionCount = completionCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -424,6 +457,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withCompletionCount(Long completionCount) {
 		this.completionCount = completionCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -445,6 +479,7 @@ Only meaningful for VoD.
 	 */
 	public void  setMinimumVideoSystemResponse(Long minimumVideoSystemResponse) {
 		this.minimumVideoSystemResponse = minimumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -456,6 +491,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withMinimumVideoSystemResponse(Long minimumVideoSystemResponse) {
 		this.minimumVideoSystemResponse = minimumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -477,6 +513,7 @@ Only meaningful for VoD.
 	 */
 	public void  setMaximumVideoSystemResponse(Long maximumVideoSystemResponse) {
 		this.maximumVideoSystemResponse = maximumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -488,6 +525,7 @@ Only meaningful for VoD.
 	 */
 	public VideoResponseStats withMaximumVideoSystemResponse(Long maximumVideoSystemResponse) {
 		this.maximumVideoSystemResponse = maximumVideoSystemResponse;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
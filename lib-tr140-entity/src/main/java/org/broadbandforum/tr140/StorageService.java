@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr140;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr140.storageservice.Capabilities;
 import org.broadbandforum.tr140.storageservice.FTPServer;
 import org.broadbandforum.tr140.storageservice.HTTPSServer;
@@ -143,6 +145,16 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	@CWMPParameter(access = "readWrite")
 	public Collection<LogicalVolume> logicalVolumes;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public StorageService() {
 	}
 
@@ -165,6 +177,7 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -176,6 +189,7 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 */
 	public StorageService withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -197,6 +211,8 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -208,6 +224,8 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 */
 	public StorageService withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -281,10 +299,20 @@ Note that when TR-140 was originally published there was a typo in this object n
 	 * @return the value
 	 */
 	public Collection<UserGroup> getUserGroups() {
-		if (this.userGroups == null){ this.userGroups=new ArrayList<>();}
+		if (!(this.userGroups instanceof InstanceTable)){ this.userGroups=InstanceTable.of(this.userGroups);}
 		return userGroups;
 	}
 
+	/**
+	 * Read the this object provides information about each user group configured on this device, which allows the grouping of user accounts for easier maintenance of permissions.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<UserGroup> viewUserGroups() {
+		return userGroups == null ? Collections.emptyList() : userGroups;
+	}
+
 	/**
 	 * Set the this object provides information about each user group configured on this device, which allows the grouping of user accounts for easier maintenance of permissions.
 	 *
@@ -311,10 +339,20 @@ Note that when TR-140 was originally published there was a typo in this object n
 	 * @return the value
 	 */
 	public Collection<UserAccount> getUserAccounts() {
-		if (this.userAccounts == null){ this.userAccounts=new ArrayList<>();}
+		if (!(this.userAccounts instanceof InstanceTable)){ this.userAccounts=InstanceTable.of(this.userAccounts);}
 		return userAccounts;
 	}
 
+	/**
+	 * Read the this object provides information about each user configured on this device, which provides a means for controlling access to the device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<UserAccount> viewUserAccounts() {
+		return userAccounts == null ? Collections.emptyList() : userAccounts;
+	}
+
 	/**
 	 * Set the this object provides information about each user configured on this device, which provides a means for controlling access to the device.
 	 *
@@ -486,10 +524,20 @@ Note that when TR-140 was originally published there was a typo in this object n
 	 * @return the value
 	 */
 	public Collection<PhysicalMedium> getPhysicalMediums() {
-		if (this.physicalMediums == null){ this.physicalMediums=new ArrayList<>();}
+		if (!(this.physicalMediums instanceof InstanceTable)){ this.physicalMediums=InstanceTable.of(this.physicalMediums);}
 		return physicalMediums;
 	}
 
+	/**
+	 * Read the this object provides information about each physical medium connected to this device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PhysicalMedium> viewPhysicalMediums() {
+		return physicalMediums == null ? Collections.emptyList() : physicalMediums;
+	}
+
 	/**
 	 * Set the this object provides information about each physical medium connected to this device.
 	 *
@@ -518,10 +566,22 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 * @return the value
 	 */
 	public Collection<StorageArray> getStorageArraies() {
-		if (this.storageArraies == null){ this.storageArraies=new ArrayList<>();}
+		if (!(this.storageArraies instanceof InstanceTable)){ this.storageArraies=InstanceTable.of(this.storageArraies);}
 		return storageArraies;
 	}
 
+	/**
+	 * Read the this object provides information about each storage array (RAID) configured on this device.
+
+Creating an instance of this object generates a disabled {{object}} instance.  Before this new {{object}} instance can be enabled (via a SetParameterValues command), it MUST have the following parameters configured: {{param|Name}}, {{param|RaidType}}, and {{param|PhysicalMediumReference}}. Once an instance is enabled the following parameters become immutable for the life of the instance: {{param|Name}}, {{param|RaidType}}, and {{param|PhysicalMediumReference}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<StorageArray> viewStorageArraies() {
+		return storageArraies == null ? Collections.emptyList() : storageArraies;
+	}
+
 	/**
 	 * Set the this object provides information about each storage array (RAID) configured on this device.
 
@@ -554,10 +614,22 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 * @return the value
 	 */
 	public Collection<LogicalVolume> getLogicalVolumes() {
-		if (this.logicalVolumes == null){ this.logicalVolumes=new ArrayList<>();}
+		if (!(this.logicalVolumes instanceof InstanceTable)){ this.logicalVolumes=InstanceTable.of(this.logicalVolumes);}
 		return logicalVolumes;
 	}
 
+	/**
+	 * Read the this object provides information about each logical volume configured on this device.  A logical volume can reside either on an instance of a single {{object|.PhysicalMedium.{i}.}} or on an instance of a single {{object|.StorageArray.{i}.}} instance, but it can not span multiple instances of either. {{param|PhysicalReference}} is used to define where this {{object}} instance resides.
+
+Creating an instance of this object generates a disabled {{object}} instance.  Before this new {{object}} instance can be enabled (via a SetParameterValues command), it MUST have the following parameters configured: {{param|Name}}, {{param|PhysicalReference}}, and {{param|Capacity}}.  Once an instance is enabled the following parameters become immutable for the life of the instance: {{param|Name}}, {{param|PhysicalReference}}, and {{param|Capacity}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LogicalVolume> viewLogicalVolumes() {
+		return logicalVolumes == null ? Collections.emptyList() : logicalVolumes;
+	}
+
 	/**
 	 * Set the this object provides information about each logical volume configured on this device.  A logical volume can reside either on an instance of a single {{object|.PhysicalMedium.{i}.}} or on an instance of a single {{object|.StorageArray.{i}.}} instance, but it can not span multiple instances of either. {{param|PhysicalReference}} is used to define where this {{object}} instance resides.
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr140.storageservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The overall capabilities of a Storage Service device.  This is a constant read-only object, meaning that only a firmware upgrade will cause these values to be altered.
@@ -117,6 +119,11 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	@XmlElement(name = "VolumeEncryptionCapable")
 	public Boolean volumeEncryptionCapable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -139,6 +146,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setFtpCapable(Boolean ftpCapable) {
 		this.ftpCapable = ftpCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -150,6 +158,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withFtpCapable(Boolean ftpCapable) {
 		this.ftpCapable = ftpCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -171,6 +180,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setSftPCapable(Boolean sftPCapable) {
 		this.sftPCapable = sftPCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -182,6 +192,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withSftPCapable(Boolean sftPCapable) {
 		this.sftPCapable = sftPCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -203,6 +214,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setHttPCapable(Boolean httPCapable) {
 		this.httPCapable = httPCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -214,6 +226,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withHttPCapable(Boolean httPCapable) {
 		this.httPCapable = httPCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -235,6 +248,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setHttPSCapable(Boolean httPSCapable) {
 		this.httPSCapable = httPSCapable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -246,6 +260,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withHttPSCapable(Boolean httPSCapable) {
 		this.httPSCapable = httPSCapable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -267,6 +282,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setHttPWritable(Boolean httPWritable) {
 		this.httPWritable = httPWritable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -278,6 +294,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withHttPWritable(Boolean httPWritable) {
 		this.httPWritable = httPWritable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -296,6 +313,21 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 		return supportedNetworkProtocols;
 	}
 
+	/**
+	 * Read the {{list}} Supported application-level network protocols. 
+
+Enumerated value must be one of [SMB, NFS, AFP]
+
+The list MAY include vendor-specific protocols, which MUST be in the format defined in {{bibref|TR-106}}.  For example: "X_EXAMPLE-COM_MyProt.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedNetworkProtocols() {
+		return supportedNetworkProtocols == null ? Collections.emptyList() : supportedNetworkProtocols;
+	}
+
 	/**
 	 * Set the {{list}} Supported application-level network protocols. 
 
@@ -308,6 +340,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setSupportedNetworkProtocols(Collection<String> supportedNetworkProtocols) {
 		this.supportedNetworkProtocols = supportedNetworkProtocols;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -323,6 +356,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withSupportedNetworkProtocols(String string) {
 		getSupportedNetworkProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -341,6 +375,21 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 		return supportedFileSystemTypes;
 	}
 
+	/**
+	 * Read the {{list}} Supported FileSystems Types.  
+
+Enumerated value must be one of [FAT16, FAT32, NTFS, HFS, HFS+, HSFJ, ext2, ext3, XFS, REISER]
+
+The list MAY include vendor-specific protocols, which MUST be in the format defined in {{bibref|TR-106}}.  For example: "X_EXAMPLE-COM_MyType.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedFileSystemTypes() {
+		return supportedFileSystemTypes == null ? Collections.emptyList() : supportedFileSystemTypes;
+	}
+
 	/**
 	 * Set the {{list}} Supported FileSystems Types.  
 
@@ -353,6 +402,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setSupportedFileSystemTypes(Collection<String> supportedFileSystemTypes) {
 		this.supportedFileSystemTypes = supportedFileSystemTypes;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -368,6 +418,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withSupportedFileSystemTypes(String string) {
 		getSupportedFileSystemTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -386,6 +437,21 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 		return supportedRaidTypes;
 	}
 
+	/**
+	 * Read the {{list}} Supported RAID types. 
+
+Enumerated value must be one of [RAID0, RAID1, RAID2, RAID3, RAID4, RAID5, RAID6, RAID10, RAID0+1, RAID30, RAID50, RAID60]
+
+The list MAY include vendor-specific protocols, which MUST be in the format defined in {{bibref|TR-106}}.  For example:"X_EXAMPLE-COM_MyRaid.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedRaidTypes() {
+		return supportedRaidTypes == null ? Collections.emptyList() : supportedRaidTypes;
+	}
+
 	/**
 	 * Set the {{list}} Supported RAID types. 
 
@@ -398,6 +464,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setSupportedRaidTypes(Collection<String> supportedRaidTypes) {
 		this.supportedRaidTypes = supportedRaidTypes;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -413,6 +480,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withSupportedRaidTypes(String string) {
 		getSupportedRaidTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -434,6 +502,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public void  setVolumeEncryptionCapable(Boolean volumeEncryptionCapable) {
 		this.volumeEncryptionCapable = volumeEncryptionCapable;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -445,6 +514,7 @@ The list MAY include vendor-specific protocols, which MUST be in the format defi
 	 */
 	public Capabilities withVolumeEncryptionCapable(Boolean volumeEncryptionCapable) {
 		this.volumeEncryptionCapable = volumeEncryptionCapable;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
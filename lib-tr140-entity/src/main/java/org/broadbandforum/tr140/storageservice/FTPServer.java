@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr140.storageservice.ftpserver.AnonymousUser;
 
 	/**
@@ -84,6 +85,11 @@ public class FTPServer {
 	@XmlElement(name = "AnonymousUser")
 	public AnonymousUser anonymousUser;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FTPServer() {
 	}
 
@@ -106,6 +112,7 @@ public class FTPServer {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -117,6 +124,7 @@ public class FTPServer {
 	 */
 	public FTPServer withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -138,6 +146,7 @@ public class FTPServer {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -149,6 +158,7 @@ public class FTPServer {
 	 */
 	public FTPServer withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -170,6 +180,7 @@ public class FTPServer {
 	 */
 	public void  setMaxNumUsers(Long maxNumUsers) {
 		this.maxNumUsers = maxNumUsers;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -181,6 +192,7 @@ public class FTPServer {
 	 */
 	public FTPServer withMaxNumUsers(Long maxNumUsers) {
 		this.maxNumUsers = maxNumUsers;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -202,6 +214,7 @@ public class FTPServer {
 	 */
 	public void  setIdleTime(Long idleTime) {
 		this.idleTime = idleTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -213,6 +226,7 @@ public class FTPServer {
 	 */
 	public FTPServer withIdleTime(Long idleTime) {
 		this.idleTime = idleTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -234,6 +248,7 @@ public class FTPServer {
 	 */
 	public void  setPortNumber(Long portNumber) {
 		this.portNumber = portNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -245,6 +260,7 @@ public class FTPServer {
 	 */
 	public FTPServer withPortNumber(Long portNumber) {
 		this.portNumber = portNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
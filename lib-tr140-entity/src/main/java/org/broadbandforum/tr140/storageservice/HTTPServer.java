@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object allows the configuration of the HTTP server.
@@ -93,6 +94,11 @@ public class HTTPServer {
 	@CWMPParameter(access = "readWrite")
 	public Boolean authenticationReq;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HTTPServer() {
 	}
 
@@ -115,6 +121,7 @@ public class HTTPServer {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -126,6 +133,7 @@ public class HTTPServer {
 	 */
 	public HTTPServer withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -147,6 +155,7 @@ public class HTTPServer {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -158,6 +167,7 @@ public class HTTPServer {
 	 */
 	public HTTPServer withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -179,6 +189,7 @@ public class HTTPServer {
 	 */
 	public void  setMaxNumUsers(Long maxNumUsers) {
 		this.maxNumUsers = maxNumUsers;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +201,7 @@ public class HTTPServer {
 	 */
 	public HTTPServer withMaxNumUsers(Long maxNumUsers) {
 		this.maxNumUsers = maxNumUsers;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +223,7 @@ public class HTTPServer {
 	 */
 	public void  setIdleTime(Long idleTime) {
 		this.idleTime = idleTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -222,6 +235,7 @@ public class HTTPServer {
 	 */
 	public HTTPServer withIdleTime(Long idleTime) {
 		this.idleTime = idleTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -243,6 +257,7 @@ public class HTTPServer {
 	 */
 	public void  setHttPWritingEnabled(Boolean httPWritingEnabled) {
 		this.httPWritingEnabled = httPWritingEnabled;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -254,6 +269,7 @@ public class HTTPServer {
 	 */
 	public HTTPServer withHttPWritingEnabled(Boolean httPWritingEnabled) {
 		this.httPWritingEnabled = httPWritingEnabled;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -275,6 +291,7 @@ public class HTTPServer {
 	 */
 	public void  setPortNumber(Long portNumber) {
 		this.portNumber = portNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -286,6 +303,7 @@ public class HTTPServer {
 	 */
 	public HTTPServer withPortNumber(Long portNumber) {
 		this.portNumber = portNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -307,6 +325,7 @@ public class HTTPServer {
 	 */
 	public void  setAuthenticationReq(Boolean authenticationReq) {
 		this.authenticationReq = authenticationReq;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -318,6 +337,7 @@ public class HTTPServer {
 	 */
 	public HTTPServer withAuthenticationReq(Boolean authenticationReq) {
 		this.authenticationReq = authenticationReq;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr140.storageservice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr140.storageservice.logicalvolume.Folder;
 
 	/**
@@ -148,6 +150,16 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	@CWMPParameter(access = "readWrite")
 	public Collection<Folder> folders;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LogicalVolume() {
 	}
 
@@ -170,6 +182,8 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -181,6 +195,8 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 */
 	public LogicalVolume withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -206,6 +222,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -219,6 +237,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public LogicalVolume withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -244,6 +264,7 @@ The default {{enum|Offline}} status will exist until this {{object}} is enabled.
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -257,6 +278,7 @@ The default {{enum|Offline}} status will exist until this {{object}} is enabled.
 	 */
 	public LogicalVolume withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -278,6 +300,7 @@ The default {{enum|Offline}} status will exist until this {{object}} is enabled.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -289,6 +312,7 @@ The default {{enum|Offline}} status will exist until this {{object}} is enabled.
 	 */
 	public LogicalVolume withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -314,6 +338,7 @@ An AddObject followed by an enabling SetParameterValues on {{param|Name}}, {{par
 	 */
 	public void  setPhysicalReference(String physicalReference) {
 		this.physicalReference = physicalReference;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -327,6 +352,7 @@ An AddObject followed by an enabling SetParameterValues on {{param|Name}}, {{par
 	 */
 	public LogicalVolume withPhysicalReference(String physicalReference) {
 		this.physicalReference = physicalReference;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -348,6 +374,7 @@ An AddObject followed by an enabling SetParameterValues on {{param|Name}}, {{par
 	 */
 	public void  setFileSystem(String fileSystem) {
 		this.fileSystem = fileSystem;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -359,6 +386,7 @@ An AddObject followed by an enabling SetParameterValues on {{param|Name}}, {{par
 	 */
 	public LogicalVolume withFileSystem(String fileSystem) {
 		this.fileSystem = fileSystem;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -384,6 +412,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setCapacity(Long capacity) {
 		this.capacity = capacity;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -397,6 +426,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public LogicalVolume withCapacity(Long capacity) {
 		this.capacity = capacity;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -418,6 +448,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setUsedSpace(Long usedSpace) {
 		this.usedSpace = usedSpace;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -429,6 +460,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public LogicalVolume withUsedSpace(Long usedSpace) {
 		this.usedSpace = usedSpace;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -450,6 +482,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setThresholdLimit(Long thresholdLimit) {
 		this.thresholdLimit = thresholdLimit;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -461,6 +494,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public LogicalVolume withThresholdLimit(Long thresholdLimit) {
 		this.thresholdLimit = thresholdLimit;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -482,6 +516,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setThresholdReached(Boolean thresholdReached) {
 		this.thresholdReached = thresholdReached;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -493,6 +528,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public LogicalVolume withThresholdReached(Boolean thresholdReached) {
 		this.thresholdReached = thresholdReached;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -514,6 +550,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setEncrypted(Boolean encrypted) {
 		this.encrypted = encrypted;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -525,6 +562,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public LogicalVolume withEncrypted(Boolean encrypted) {
 		this.encrypted = encrypted;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -536,10 +574,22 @@ Creating an instance of this object generates a disabled {{object}} instance.  B
 	 * @return the value
 	 */
 	public Collection<Folder> getFolders() {
-		if (this.folders == null){ this.folders=new ArrayList<>();}
+		if (!(this.folders instanceof InstanceTable)){ this.folders=InstanceTable.of(this.folders);}
 		return folders;
 	}
 
+	/**
+	 * Read the this object provides information about each top-level folder configured on this logical volume.  Each top-level folder allows the configuration of quotas and access permissions.
+
+Creating an instance of this object generates a disabled {{object}} instance.  Before this new {{object}} instance can be enabled (via a SetParameterValues command), it MUST have the {{param|Name}} configured.  Folder instances are unique per {{object|.LogicalVolume.{i}.}} and the unique key for this object is {{param|Name}} which also means that once an instance is enabled {{param|Name}} becomes immutable for the life of the instance.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Folder> viewFolders() {
+		return folders == null ? Collections.emptyList() : folders;
+	}
+
 	/**
 	 * Set the this object provides information about each top-level folder configured on this logical volume.  Each top-level folder allows the configuration of quotas and access permissions.
 
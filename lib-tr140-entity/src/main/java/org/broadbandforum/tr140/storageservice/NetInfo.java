@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides general LAN network information about this device.
@@ -54,6 +55,11 @@ public class NetInfo {
 	@Size(max = 255)
 	public String domainName;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NetInfo() {
 	}
 
@@ -76,6 +82,7 @@ public class NetInfo {
 	 */
 	public void  setHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +94,7 @@ public class NetInfo {
 	 */
 	public NetInfo withHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -108,6 +116,7 @@ public class NetInfo {
 	 */
 	public void  setDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -119,6 +128,7 @@ public class NetInfo {
 	 */
 	public NetInfo withDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
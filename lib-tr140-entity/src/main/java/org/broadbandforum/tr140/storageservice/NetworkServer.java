@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object allows the control of network layer protocols authorization enforcement.
@@ -67,6 +68,11 @@ public class NetworkServer {
 	@CWMPParameter(access = "readWrite")
 	public Boolean networkProtocolAuthReq;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NetworkServer() {
 	}
 
@@ -89,6 +95,7 @@ public class NetworkServer {
 	 */
 	public void  setAfpEnable(Boolean afpEnable) {
 		this.afpEnable = afpEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +107,7 @@ public class NetworkServer {
 	 */
 	public NetworkServer withAfpEnable(Boolean afpEnable) {
 		this.afpEnable = afpEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class NetworkServer {
 	 */
 	public void  setNfsEnable(Boolean nfsEnable) {
 		this.nfsEnable = nfsEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +141,7 @@ public class NetworkServer {
 	 */
 	public NetworkServer withNfsEnable(Boolean nfsEnable) {
 		this.nfsEnable = nfsEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -153,6 +163,7 @@ public class NetworkServer {
 	 */
 	public void  setSmbEnable(Boolean smbEnable) {
 		this.smbEnable = smbEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -164,6 +175,7 @@ public class NetworkServer {
 	 */
 	public NetworkServer withSmbEnable(Boolean smbEnable) {
 		this.smbEnable = smbEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,6 +197,7 @@ public class NetworkServer {
 	 */
 	public void  setNetworkProtocolAuthReq(Boolean networkProtocolAuthReq) {
 		this.networkProtocolAuthReq = networkProtocolAuthReq;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -196,6 +209,7 @@ public class NetworkServer {
 	 */
 	public NetworkServer withNetworkProtocolAuthReq(Boolean networkProtocolAuthReq) {
 		this.networkProtocolAuthReq = networkProtocolAuthReq;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
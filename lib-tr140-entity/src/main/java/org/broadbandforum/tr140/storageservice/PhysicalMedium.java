@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object provides information about each physical medium connected to this device.
@@ -152,6 +154,16 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	@XmlElement(name = "HotSwappable")
 	public Boolean hotSwappable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PhysicalMedium() {
 	}
 
@@ -174,6 +186,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -185,6 +199,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -206,6 +222,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -217,6 +235,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -238,6 +258,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -249,6 +271,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -270,6 +294,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setModel(String model) {
 		this.model = model;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -281,6 +307,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withModel(String model) {
 		this.model = model;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -302,6 +330,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -313,6 +343,8 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -334,6 +366,7 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -345,6 +378,7 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -374,6 +408,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -389,6 +424,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public PhysicalMedium withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -410,6 +446,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public void  setRemovable(Boolean removable) {
 		this.removable = removable;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -421,6 +458,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public PhysicalMedium withRemovable(Boolean removable) {
 		this.removable = removable;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -442,6 +480,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public void  setCapacity(Long capacity) {
 		this.capacity = capacity;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -453,6 +492,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public PhysicalMedium withCapacity(Long capacity) {
 		this.capacity = capacity;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -474,6 +514,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -485,6 +526,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public PhysicalMedium withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -506,6 +548,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -517,6 +560,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public PhysicalMedium withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -538,6 +582,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public void  setSmaRTCapable(Boolean smaRTCapable) {
 		this.smaRTCapable = smaRTCapable;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -549,6 +594,7 @@ The parameter MAY instead be a vendor-specific connection type, which MUST be in
 	 */
 	public PhysicalMedium withSmaRTCapable(Boolean smaRTCapable) {
 		this.smaRTCapable = smaRTCapable;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -574,6 +620,7 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setHealth(String health) {
 		this.health = health;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -587,6 +634,7 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withHealth(String health) {
 		this.health = health;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -608,6 +656,7 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public void  setHotSwappable(Boolean hotSwappable) {
 		this.hotSwappable = hotSwappable;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -619,6 +668,7 @@ Note: Health MAY be obtained from S.M.A.R.T. data where available.
 	 */
 	public PhysicalMedium withHotSwappable(Boolean hotSwappable) {
 		this.hotSwappable = hotSwappable;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
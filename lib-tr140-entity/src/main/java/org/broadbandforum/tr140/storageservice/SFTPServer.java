@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object allows the configuration of the SSH FTP server.
@@ -78,6 +79,11 @@ public class SFTPServer {
 	@Size(min = 0, max = 65535)
 	public Long portNumber = 115L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SFTPServer() {
 	}
 
@@ -100,6 +106,7 @@ public class SFTPServer {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +118,7 @@ public class SFTPServer {
 	 */
 	public SFTPServer withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -132,6 +140,7 @@ public class SFTPServer {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -143,6 +152,7 @@ public class SFTPServer {
 	 */
 	public SFTPServer withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -164,6 +174,7 @@ public class SFTPServer {
 	 */
 	public void  setMaxNumUsers(Long maxNumUsers) {
 		this.maxNumUsers = maxNumUsers;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -175,6 +186,7 @@ public class SFTPServer {
 	 */
 	public SFTPServer withMaxNumUsers(Long maxNumUsers) {
 		this.maxNumUsers = maxNumUsers;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -196,6 +208,7 @@ public class SFTPServer {
 	 */
 	public void  setIdleTime(Long idleTime) {
 		this.idleTime = idleTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -207,6 +220,7 @@ public class SFTPServer {
 	 */
 	public SFTPServer withIdleTime(Long idleTime) {
 		this.idleTime = idleTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -228,6 +242,7 @@ public class SFTPServer {
 	 */
 	public void  setPortNumber(Long portNumber) {
 		this.portNumber = portNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -239,6 +254,7 @@ public class SFTPServer {
 	 */
 	public SFTPServer withPortNumber(Long portNumber) {
 		this.portNumber = portNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
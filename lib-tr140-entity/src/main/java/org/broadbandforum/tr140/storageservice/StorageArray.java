@@ -17,6 +17,7 @@ package org.broadbandforum.tr140.storageservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object provides information about each storage array (RAID) configured on this device.
@@ -107,6 +110,16 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	@XmlList
 	public Collection<String> physicalMediumReference;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public StorageArray() {
 	}
 
@@ -129,6 +142,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -140,6 +155,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public StorageArray withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -165,6 +182,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -178,6 +196,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public StorageArray withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +218,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +230,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public StorageArray withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -231,6 +252,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -242,6 +264,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public StorageArray withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -267,6 +290,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setRaidType(String raidType) {
 		this.raidType = raidType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -280,6 +304,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public StorageArray withRaidType(String raidType) {
 		this.raidType = raidType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -301,6 +326,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setUsableCapacity(Long usableCapacity) {
 		this.usableCapacity = usableCapacity;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -312,6 +338,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public StorageArray withUsableCapacity(Long usableCapacity) {
 		this.usableCapacity = usableCapacity;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -328,6 +355,19 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 		return physicalMediumReference;
 	}
 
+	/**
+	 * Read the represents the physical medium used by this RAID.  Each Physical Medium referenced by this parameter MUST exist within the same StorageService instance. A {{object|.PhysicalMedium.{i}.}} MUST only be referenced by one {{object|.StorageArray.{i}.}} instance. 
+
+Once this instance becomes enabled, this parameter will be immutable for the life of the instance.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPhysicalMediumReference() {
+		return physicalMediumReference == null ? Collections.emptyList() : physicalMediumReference;
+	}
+
 	/**
 	 * Set the represents the physical medium used by this RAID.  Each Physical Medium referenced by this parameter MUST exist within the same StorageService instance. A {{object|.PhysicalMedium.{i}.}} MUST only be referenced by one {{object|.StorageArray.{i}.}} instance. 
 
@@ -338,6 +378,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setPhysicalMediumReference(Collection<String> physicalMediumReference) {
 		this.physicalMediumReference = physicalMediumReference;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -351,6 +393,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public StorageArray withPhysicalMediumReference(String string) {
 		getPhysicalMediumReference().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
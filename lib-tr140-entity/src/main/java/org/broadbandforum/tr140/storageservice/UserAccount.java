@@ -17,6 +17,7 @@ package org.broadbandforum.tr140.storageservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object provides information about each user configured on this device, which provides a means for controlling access to the device.
@@ -102,6 +105,16 @@ public class UserAccount {
 	@CWMPParameter(access = "readWrite")
 	public Boolean allowHTTPAccess;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public UserAccount() {
 	}
 
@@ -124,6 +137,7 @@ public class UserAccount {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +149,7 @@ public class UserAccount {
 	 */
 	public UserAccount withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +171,8 @@ public class UserAccount {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -167,6 +184,8 @@ public class UserAccount {
 	 */
 	public UserAccount withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -188,6 +207,8 @@ public class UserAccount {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -199,6 +220,8 @@ public class UserAccount {
 	 */
 	public UserAccount withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -220,6 +243,7 @@ public class UserAccount {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +255,7 @@ public class UserAccount {
 	 */
 	public UserAccount withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -245,6 +270,17 @@ public class UserAccount {
 		return userGroupParticipation;
 	}
 
+	/**
+	 * Read the represents a User Group that this User Account is a member of.  Each {{object|.UserGroup.{i}.}} referenced by this parameter MUST exist within the same StorageService instance.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUserGroupParticipation() {
+		return userGroupParticipation == null ? Collections.emptyList() : userGroupParticipation;
+	}
+
 	/**
 	 * Set the represents a User Group that this User Account is a member of.  Each {{object|.UserGroup.{i}.}} referenced by this parameter MUST exist within the same StorageService instance.
 	 *
@@ -253,6 +289,7 @@ public class UserAccount {
 	 */
 	public void  setUserGroupParticipation(Collection<String> userGroupParticipation) {
 		this.userGroupParticipation = userGroupParticipation;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -264,6 +301,7 @@ public class UserAccount {
 	 */
 	public UserAccount withUserGroupParticipation(String string) {
 		getUserGroupParticipation().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -285,6 +323,7 @@ public class UserAccount {
 	 */
 	public void  setAllowFTPAccess(Boolean allowFTPAccess) {
 		this.allowFTPAccess = allowFTPAccess;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -296,6 +335,7 @@ public class UserAccount {
 	 */
 	public UserAccount withAllowFTPAccess(Boolean allowFTPAccess) {
 		this.allowFTPAccess = allowFTPAccess;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -317,6 +357,7 @@ public class UserAccount {
 	 */
 	public void  setAllowHTTPAccess(Boolean allowHTTPAccess) {
 		this.allowHTTPAccess = allowHTTPAccess;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -328,6 +369,7 @@ public class UserAccount {
 	 */
 	public UserAccount withAllowHTTPAccess(Boolean allowHTTPAccess) {
 		this.allowHTTPAccess = allowHTTPAccess;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
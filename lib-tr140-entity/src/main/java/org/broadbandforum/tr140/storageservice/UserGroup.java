@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object provides information about each user group configured on this device, which allows the grouping of user accounts for easier maintenance of permissions.
@@ -64,6 +66,16 @@ public class UserGroup {
 	@Size(max = 64)
 	public String groupName;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public UserGroup() {
 	}
 
@@ -86,6 +98,7 @@ public class UserGroup {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -97,6 +110,7 @@ public class UserGroup {
 	 */
 	public UserGroup withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -118,6 +132,8 @@ public class UserGroup {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -129,6 +145,8 @@ public class UserGroup {
 	 */
 	public UserGroup withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -150,6 +168,8 @@ public class UserGroup {
 	 */
 	public void  setGroupName(String groupName) {
 		this.groupName = groupName;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -161,6 +181,8 @@ public class UserGroup {
 	 */
 	public UserGroup withGroupName(String groupName) {
 		this.groupName = groupName;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
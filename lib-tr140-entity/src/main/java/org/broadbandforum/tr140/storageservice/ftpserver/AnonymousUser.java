@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object allows the configuration of anonymous FTP access.
@@ -61,6 +62,11 @@ public class AnonymousUser {
 	@CWMPParameter(access = "readWrite")
 	public Boolean readOnlyAccess;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AnonymousUser() {
 	}
 
@@ -83,6 +89,7 @@ public class AnonymousUser {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -94,6 +101,7 @@ public class AnonymousUser {
 	 */
 	public AnonymousUser withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -115,6 +123,7 @@ public class AnonymousUser {
 	 */
 	public void  setStartingFolder(String startingFolder) {
 		this.startingFolder = startingFolder;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -126,6 +135,7 @@ public class AnonymousUser {
 	 */
 	public AnonymousUser withStartingFolder(String startingFolder) {
 		this.startingFolder = startingFolder;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -147,6 +157,7 @@ public class AnonymousUser {
 	 */
 	public void  setReadOnlyAccess(Boolean readOnlyAccess) {
 		this.readOnlyAccess = readOnlyAccess;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -158,6 +169,7 @@ public class AnonymousUser {
 	 */
 	public AnonymousUser withReadOnlyAccess(Boolean readOnlyAccess) {
 		this.readOnlyAccess = readOnlyAccess;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
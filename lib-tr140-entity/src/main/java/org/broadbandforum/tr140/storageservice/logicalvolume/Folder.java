@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr140.storageservice.logicalvolume;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr140.storageservice.logicalvolume.folder.GroupAccess;
 import org.broadbandforum.tr140.storageservice.logicalvolume.folder.Quota;
 import org.broadbandforum.tr140.storageservice.logicalvolume.folder.UserAccess;
@@ -116,6 +118,16 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	@XmlElement(name = "Quota")
 	public Quota quota;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Folder() {
 	}
 
@@ -138,6 +150,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -149,6 +163,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public Folder withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -186,6 +202,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +223,8 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public Folder withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -226,6 +246,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -237,6 +258,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public Folder withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -274,6 +296,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public void  setUserAccountAccess(Long userAccountAccess) {
 		this.userAccountAccess = userAccountAccess;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -293,6 +316,7 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 */
 	public Folder withUserAccountAccess(Long userAccountAccess) {
 		this.userAccountAccess = userAccountAccess;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -302,10 +326,20 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 * @return the value
 	 */
 	public Collection<UserAccess> getUserAccesss() {
-		if (this.userAccesss == null){ this.userAccesss=new ArrayList<>();}
+		if (!(this.userAccesss instanceof InstanceTable)){ this.userAccesss=InstanceTable.of(this.userAccesss);}
 		return userAccesss;
 	}
 
+	/**
+	 * Read the this object provides information about each user account configured for access permissions on this folder.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<UserAccess> viewUserAccesss() {
+		return userAccesss == null ? Collections.emptyList() : userAccesss;
+	}
+
 	/**
 	 * Set the this object provides information about each user account configured for access permissions on this folder.
 	 *
@@ -332,10 +366,20 @@ Once this instance becomes enabled, this parameter will be immutable for the lif
 	 * @return the value
 	 */
 	public Collection<GroupAccess> getGroupAccesss() {
-		if (this.groupAccesss == null){ this.groupAccesss=new ArrayList<>();}
+		if (!(this.groupAccesss instanceof InstanceTable)){ this.groupAccesss=InstanceTable.of(this.groupAccesss);}
 		return groupAccesss;
 	}
 
+	/**
+	 * Read the this object provides information about each user group configured for access permissions on this folder.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<GroupAccess> viewGroupAccesss() {
+		return groupAccesss == null ? Collections.emptyList() : groupAccesss;
+	}
+
 	/**
 	 * Set the this object provides information about each user group configured for access permissions on this folder.
 	 *
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object provides information about each user group configured for access permissions on this folder.
@@ -79,6 +81,16 @@ public class GroupAccess {
 	@Size(min = 0, max = 7)
 	public Long permissions = 7L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public GroupAccess() {
 	}
 
@@ -101,6 +113,8 @@ public class GroupAccess {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -112,6 +126,8 @@ public class GroupAccess {
 	 */
 	public GroupAccess withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -133,6 +149,7 @@ public class GroupAccess {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +161,7 @@ public class GroupAccess {
 	 */
 	public GroupAccess withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +183,8 @@ public class GroupAccess {
 	 */
 	public void  setGroupReference(String groupReference) {
 		this.groupReference = groupReference;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -176,6 +196,8 @@ public class GroupAccess {
 	 */
 	public GroupAccess withGroupReference(String groupReference) {
 		this.groupReference = groupReference;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -209,6 +231,7 @@ public class GroupAccess {
 	 */
 	public void  setPermissions(Long permissions) {
 		this.permissions = permissions;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -226,6 +249,7 @@ public class GroupAccess {
 	 */
 	public GroupAccess withPermissions(Long permissions) {
 		this.permissions = permissions;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object allows the configuration of per-folder storage quota management.
@@ -74,6 +75,11 @@ public class Quota {
 	@XmlElement(name = "ThresholdReached")
 	public Boolean thresholdReached;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Quota() {
 	}
 
@@ -96,6 +102,7 @@ public class Quota {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -107,6 +114,7 @@ public class Quota {
 	 */
 	public Quota withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -128,6 +136,7 @@ public class Quota {
 	 */
 	public void  setCapacity(Long capacity) {
 		this.capacity = capacity;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -139,6 +148,7 @@ public class Quota {
 	 */
 	public Quota withCapacity(Long capacity) {
 		this.capacity = capacity;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -160,6 +170,7 @@ public class Quota {
 	 */
 	public void  setUsedSpace(Long usedSpace) {
 		this.usedSpace = usedSpace;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -171,6 +182,7 @@ public class Quota {
 	 */
 	public Quota withUsedSpace(Long usedSpace) {
 		this.usedSpace = usedSpace;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -192,6 +204,7 @@ public class Quota {
 	 */
 	public void  setThresholdLimit(Long thresholdLimit) {
 		this.thresholdLimit = thresholdLimit;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -203,6 +216,7 @@ public class Quota {
 	 */
 	public Quota withThresholdLimit(Long thresholdLimit) {
 		this.thresholdLimit = thresholdLimit;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -224,6 +238,7 @@ public class Quota {
 	 */
 	public void  setThresholdReached(Boolean thresholdReached) {
 		this.thresholdReached = thresholdReached;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -235,6 +250,7 @@ public class Quota {
 	 */
 	public Quota withThresholdReached(Boolean thresholdReached) {
 		this.thresholdReached = thresholdReached;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr143;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr143.internetgatewaydevice.Capabilities;
 import org.broadbandforum.tr143.internetgatewaydevice.DeviceConfig;
 import org.broadbandforum.tr143.internetgatewaydevice.DeviceInfo;
@@ -156,6 +158,11 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	@XmlElement(name = "WANDevice")
 	public Collection<WANDevice> wanDevices;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InternetGatewayDevice() {
 	}
 
@@ -178,6 +185,7 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	 */
 	public void  setDeviceSummary(String deviceSummary) {
 		this.deviceSummary = deviceSummary;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -189,6 +197,7 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	 */
 	public InternetGatewayDevice withDeviceSummary(String deviceSummary) {
 		this.deviceSummary = deviceSummary;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -645,10 +654,20 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	 * @return the value
 	 */
 	public Collection<LANDevice> getLanDevices() {
-		if (this.lanDevices == null){ this.lanDevices=new ArrayList<>();}
+		if (!(this.lanDevices instanceof InstanceTable)){ this.lanDevices=InstanceTable.of(this.lanDevices);}
 		return lanDevices;
 	}
 
+	/**
+	 * Read the each instance contains all LAN-related objects for a given bridged subnet.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LANDevice> viewLanDevices() {
+		return lanDevices == null ? Collections.emptyList() : lanDevices;
+	}
+
 	/**
 	 * Set the each instance contains all LAN-related objects for a given bridged subnet.
 	 *
@@ -675,10 +694,20 @@ Files sent by the UploadDiagnostics do not require file storage on the CPE devic
 	 * @return the value
 	 */
 	public Collection<WANDevice> getWanDevices() {
-		if (this.wanDevices == null){ this.wanDevices=new ArrayList<>();}
+		if (!(this.wanDevices instanceof InstanceTable)){ this.wanDevices=InstanceTable.of(this.wanDevices);}
 		return wanDevices;
 	}
 
+	/**
+	 * Read the each instance contains all objects associated with a particular physical WAN interface.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WANDevice> viewWanDevices() {
+		return wanDevices == null ? Collections.emptyList() : wanDevices;
+	}
+
 	/**
 	 * Set the each instance contains all objects associated with a particular physical WAN interface.
 	 *
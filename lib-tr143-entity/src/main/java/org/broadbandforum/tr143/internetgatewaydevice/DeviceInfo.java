@@ -18,6 +18,7 @@ package org.broadbandforum.tr143.internetgatewaydevice;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr143.internetgatewaydevice.deviceinfo.VendorConfigFile;
 
 	/**
@@ -181,6 +186,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 * @since 1.0
 	 */
 	@XmlElement(name = "FirstUseDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime firstUseDate;
 	/**
 	 * Vendor-specific log(s).
@@ -201,6 +207,11 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	@XmlElement(name = "VendorConfigFile")
 	public Collection<VendorConfigFile> vendorConfigFiles;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DeviceInfo() {
 	}
 
@@ -223,6 +234,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public void  setManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -234,6 +246,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public DeviceInfo withManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -255,6 +268,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -266,6 +280,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public DeviceInfo withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -287,6 +302,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public void  setModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -298,6 +314,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public DeviceInfo withModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -319,6 +336,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -330,6 +348,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public DeviceInfo withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -351,6 +370,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -362,6 +382,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public DeviceInfo withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -383,6 +404,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -394,6 +416,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public DeviceInfo withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -415,6 +438,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public void  setHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -426,6 +450,7 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 */
 	public DeviceInfo withHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -451,6 +476,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -464,6 +490,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -485,6 +512,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setModemFirmwareVersion(String modemFirmwareVersion) {
 		this.modemFirmwareVersion = modemFirmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -496,6 +524,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withModemFirmwareVersion(String modemFirmwareVersion) {
 		this.modemFirmwareVersion = modemFirmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -510,6 +539,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return enabledOptions;
 	}
 
+	/**
+	 * Read the OptionName of each Option that is currently enabled in the CPE.  The OptionName of each is identical to the OptionName element of the OptionStruct described in {{bibref|TR-069a1}}.  Only those options are listed whose State indicates the option is enabled.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEnabledOptions() {
+		return enabledOptions == null ? Collections.emptyList() : enabledOptions;
+	}
+
 	/**
 	 * Set the OptionName of each Option that is currently enabled in the CPE.  The OptionName of each is identical to the OptionName element of the OptionStruct described in {{bibref|TR-069a1}}.  Only those options are listed whose State indicates the option is enabled.
 	 *
@@ -518,6 +558,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setEnabledOptions(Collection<String> enabledOptions) {
 		this.enabledOptions = enabledOptions;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -529,6 +570,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withEnabledOptions(String string) {
 		getEnabledOptions().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -543,6 +585,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return additionalHardwareVersion;
 	}
 
+	/**
+	 * Get any additional hardware version information the vendor might wish to supply.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalHardwareVersion() {
+		return additionalHardwareVersion == null ? Collections.emptyList() : additionalHardwareVersion;
+	}
+
 	/**
 	 * Set any additional hardware version information the vendor might wish to supply.
 	 *
@@ -551,6 +604,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setAdditionalHardwareVersion(Collection<String> additionalHardwareVersion) {
 		this.additionalHardwareVersion = additionalHardwareVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -562,6 +616,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withAdditionalHardwareVersion(String string) {
 		getAdditionalHardwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -576,6 +631,17 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 		return additionalSoftwareVersion;
 	}
 
+	/**
+	 * Get any additional software version information the vendor might wish to supply.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalSoftwareVersion() {
+		return additionalSoftwareVersion == null ? Collections.emptyList() : additionalSoftwareVersion;
+	}
+
 	/**
 	 * Set any additional software version information the vendor might wish to supply.
 	 *
@@ -584,6 +650,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public void  setAdditionalSoftwareVersion(Collection<String> additionalSoftwareVersion) {
 		this.additionalSoftwareVersion = additionalSoftwareVersion;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -595,6 +662,7 @@ To allow version comparisons, this element SHOULD be in the form of dot-delimite
 	 */
 	public DeviceInfo withAdditionalSoftwareVersion(String string) {
 		getAdditionalSoftwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -620,6 +688,7 @@ This parameter is DEPRECATED because its value is fixed and it therefore serves
 	 */
 	public void  setSpecVersion(String specVersion) {
 		this.specVersion = specVersion;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -633,6 +702,7 @@ This parameter is DEPRECATED because its value is fixed and it therefore serves
 	 */
 	public DeviceInfo withSpecVersion(String specVersion) {
 		this.specVersion = specVersion;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -658,6 +728,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -671,6 +742,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -692,6 +764,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -703,6 +776,7 @@ If not {{empty}}, this argument SHOULD be in the form of a hierarchical descript
 	 */
 	public DeviceInfo withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -728,6 +802,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -741,6 +816,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public DeviceInfo withFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -762,6 +838,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public void  setDeviceLog(String deviceLog) {
 		this.deviceLog = deviceLog;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -773,6 +850,7 @@ If NTP or equivalent is not available, this parameter, if present, SHOULD be set
 	 */
 	public DeviceInfo withDeviceLog(String deviceLog) {
 		this.deviceLog = deviceLog;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -786,10 +864,24 @@ Whenever the CPE successfully downloads a configuration file as a result of the
 	 * @return the value
 	 */
 	public Collection<VendorConfigFile> getVendorConfigFiles() {
-		if (this.vendorConfigFiles == null){ this.vendorConfigFiles=new ArrayList<>();}
+		if (!(this.vendorConfigFiles instanceof InstanceTable)){ this.vendorConfigFiles=InstanceTable.of(this.vendorConfigFiles);}
 		return vendorConfigFiles;
 	}
 
+	/**
+	 * Read the every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor Configuration File.
+
+This table of Vendor Configuration Files is for information only and does not allow the ACS to operate on these files in any way.
+
+Whenever the CPE successfully downloads a configuration file as a result of the Download RPC with the FileType argument of ''3 Vendor Configuration File'', the CPE MUST update this table.  If the name of the file (determined as described in the definition of the {{param|Name}} parameter) differs from that of any existing instance, then the CPE MUST create a new instance to represent this file.  If instead, the name of the file is identical to that of an existing instance, then the CPE MUST update the content of the existing instance with the new version, date, and (optionally) description of the file.{{nokeys}}
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VendorConfigFile> viewVendorConfigFiles() {
+		return vendorConfigFiles == null ? Collections.emptyList() : vendorConfigFiles;
+	}
+
 	/**
 	 * Set the every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor Configuration File.
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object defines the diagnostics configuration for a HTTP and FTP DownloadDiagnostics Test.
@@ -126,6 +129,7 @@ For example: 2008-04-09T15:01:05.123456
 	 * @since 1.3
 	 */
 	@XmlElement(name = "ROMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime romTime;
 	/**
@@ -140,6 +144,7 @@ For example: 2008-04-09T15:01:05.123456
 	 * @since 1.3
 	 */
 	@XmlElement(name = "BOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime bomTime;
 	/**
@@ -154,6 +159,7 @@ For example: 2008-04-09T15:01:05.123456
 	 * @since 1.3
 	 */
 	@XmlElement(name = "EOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime eomTime;
 	/**
@@ -186,6 +192,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 * @since 1.3
 	 */
 	@XmlElement(name = "TCPOpenRequestTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenRequestTime;
 	/**
@@ -202,9 +209,15 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 * @since 1.3
 	 */
 	@XmlElement(name = "TCPOpenResponseTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DownloadDiagnostics() {
 	}
 
@@ -263,6 +276,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -292,6 +306,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public DownloadDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -321,6 +336,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -336,6 +352,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public DownloadDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -369,6 +386,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public void  setDownloadURL(String downloadURL) {
 		this.downloadURL = downloadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -386,6 +404,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public DownloadDiagnostics withDownloadURL(String downloadURL) {
 		this.downloadURL = downloadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -411,6 +430,7 @@ The default value SHOULD be zero.
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -424,6 +444,7 @@ The default value SHOULD be zero.
 	 */
 	public DownloadDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -449,6 +470,7 @@ The default value SHOULD be zero.
 	 */
 	public void  setEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -462,6 +484,7 @@ The default value SHOULD be zero.
 	 */
 	public DownloadDiagnostics withEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -495,6 +518,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -512,6 +536,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public DownloadDiagnostics withRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -545,6 +570,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -562,6 +588,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public DownloadDiagnostics withBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -595,6 +622,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -612,6 +640,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public DownloadDiagnostics withEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -633,6 +662,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setTestBytesReceived(Long testBytesReceived) {
 		this.testBytesReceived = testBytesReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -644,6 +674,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public DownloadDiagnostics withTestBytesReceived(Long testBytesReceived) {
 		this.testBytesReceived = testBytesReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -665,6 +696,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -676,6 +708,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public DownloadDiagnostics withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -713,6 +746,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public void  setTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -732,6 +766,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public DownloadDiagnostics withTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -769,6 +804,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public void  setTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -788,6 +824,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public DownloadDiagnostics withTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
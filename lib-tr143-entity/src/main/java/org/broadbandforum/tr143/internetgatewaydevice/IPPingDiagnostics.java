@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides access to an IP-layer ping test.
@@ -168,6 +169,11 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long maximumResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPPingDiagnostics() {
 	}
 
@@ -226,6 +232,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -255,6 +262,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public IPPingDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -300,6 +308,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -323,6 +332,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -344,6 +354,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -355,6 +366,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -376,6 +388,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -387,6 +400,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -408,6 +422,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -419,6 +434,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -440,6 +456,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -451,6 +468,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -472,6 +490,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -483,6 +502,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -504,6 +524,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -515,6 +536,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -536,6 +558,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -547,6 +570,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -568,6 +592,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -579,6 +604,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -600,6 +626,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -611,6 +638,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -632,6 +660,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -643,6 +672,7 @@ If {{empty}} is specified, the CPE MUST use the interface as directed by its rou
 	 */
 	public IPPingDiagnostics withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
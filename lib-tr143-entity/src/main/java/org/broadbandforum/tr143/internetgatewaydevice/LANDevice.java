@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr143.internetgatewaydevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.Hosts;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.LANEthernetInterfaceConfig;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.LANHostConfigManagement;
@@ -109,10 +110,20 @@ public class LANDevice {
 	 * @return the value
 	 */
 	public Collection<LANEthernetInterfaceConfig> getLanEthernetInterfaceConfigs() {
-		if (this.lanEthernetInterfaceConfigs == null){ this.lanEthernetInterfaceConfigs=new ArrayList<>();}
+		if (!(this.lanEthernetInterfaceConfigs instanceof InstanceTable)){ this.lanEthernetInterfaceConfigs=InstanceTable.of(this.lanEthernetInterfaceConfigs);}
 		return lanEthernetInterfaceConfigs;
 	}
 
+	/**
+	 * Read the this object models an Ethernet LAN connection on a CPE device.  This object MUST be implemented for CPE that contain an Ethernet interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LANEthernetInterfaceConfig> viewLanEthernetInterfaceConfigs() {
+		return lanEthernetInterfaceConfigs == null ? Collections.emptyList() : lanEthernetInterfaceConfigs;
+	}
+
 	/**
 	 * Set the this object models an Ethernet LAN connection on a CPE device.  This object MUST be implemented for CPE that contain an Ethernet interface on the LAN side.
 	 *
@@ -139,10 +150,20 @@ public class LANDevice {
 	 * @return the value
 	 */
 	public Collection<LANUSBInterfaceConfig> getLanUSBInterfaceConfigs() {
-		if (this.lanUSBInterfaceConfigs == null){ this.lanUSBInterfaceConfigs=new ArrayList<>();}
+		if (!(this.lanUSBInterfaceConfigs instanceof InstanceTable)){ this.lanUSBInterfaceConfigs=InstanceTable.of(this.lanUSBInterfaceConfigs);}
 		return lanUSBInterfaceConfigs;
 	}
 
+	/**
+	 * Read the this object models a USB LAN connection on a CPE device.  This object MUST be implemented for CPE that contain a USB interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LANUSBInterfaceConfig> viewLanUSBInterfaceConfigs() {
+		return lanUSBInterfaceConfigs == null ? Collections.emptyList() : lanUSBInterfaceConfigs;
+	}
+
 	/**
 	 * Set the this object models a USB LAN connection on a CPE device.  This object MUST be implemented for CPE that contain a USB interface on the LAN side.
 	 *
@@ -169,10 +190,20 @@ public class LANDevice {
 	 * @return the value
 	 */
 	public Collection<WLANConfiguration> getWlaNConfigurations() {
-		if (this.wlaNConfigurations == null){ this.wlaNConfigurations=new ArrayList<>();}
+		if (!(this.wlaNConfigurations instanceof InstanceTable)){ this.wlaNConfigurations=InstanceTable.of(this.wlaNConfigurations);}
 		return wlaNConfigurations;
 	}
 
+	/**
+	 * Read the this object models an 802.11 LAN connection on a CPE device.  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WLANConfiguration> viewWlaNConfigurations() {
+		return wlaNConfigurations == null ? Collections.emptyList() : wlaNConfigurations;
+	}
+
 	/**
 	 * Set the this object models an 802.11 LAN connection on a CPE device.  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr143.internetgatewaydevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr143.internetgatewaydevice.layer2bridging.AvailableInterface;
 import org.broadbandforum.tr143.internetgatewaydevice.layer2bridging.Bridge;
 import org.broadbandforum.tr143.internetgatewaydevice.layer2bridging.Filter;
@@ -93,6 +95,11 @@ public class Layer2Bridging {
 	@XmlElement(name = "AvailableInterface")
 	public Collection<AvailableInterface> availableInterfaces;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Layer2Bridging() {
 	}
 
@@ -115,6 +122,7 @@ public class Layer2Bridging {
 	 */
 	public void  setMaxBridgeEntries(Long maxBridgeEntries) {
 		this.maxBridgeEntries = maxBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -126,6 +134,7 @@ public class Layer2Bridging {
 	 */
 	public Layer2Bridging withMaxBridgeEntries(Long maxBridgeEntries) {
 		this.maxBridgeEntries = maxBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -147,6 +156,7 @@ public class Layer2Bridging {
 	 */
 	public void  setMaxFilterEntries(Long maxFilterEntries) {
 		this.maxFilterEntries = maxFilterEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -158,6 +168,7 @@ public class Layer2Bridging {
 	 */
 	public Layer2Bridging withMaxFilterEntries(Long maxFilterEntries) {
 		this.maxFilterEntries = maxFilterEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -179,6 +190,7 @@ public class Layer2Bridging {
 	 */
 	public void  setMaxMarkingEntries(Long maxMarkingEntries) {
 		this.maxMarkingEntries = maxMarkingEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +202,7 @@ public class Layer2Bridging {
 	 */
 	public Layer2Bridging withMaxMarkingEntries(Long maxMarkingEntries) {
 		this.maxMarkingEntries = maxMarkingEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -199,10 +212,20 @@ public class Layer2Bridging {
 	 * @return the value
 	 */
 	public Collection<Bridge> getBridges() {
-		if (this.bridges == null){ this.bridges=new ArrayList<>();}
+		if (!(this.bridges instanceof InstanceTable)){ this.bridges=InstanceTable.of(this.bridges);}
 		return bridges;
 	}
 
+	/**
+	 * Read the bridge table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Bridge> viewBridges() {
+		return bridges == null ? Collections.emptyList() : bridges;
+	}
+
 	/**
 	 * Set the bridge table.
 	 *
@@ -229,10 +252,20 @@ public class Layer2Bridging {
 	 * @return the value
 	 */
 	public Collection<Filter> getFilters() {
-		if (this.filters == null){ this.filters=new ArrayList<>();}
+		if (!(this.filters instanceof InstanceTable)){ this.filters=InstanceTable.of(this.filters);}
 		return filters;
 	}
 
+	/**
+	 * Read the filter table containing filter entries each of which is associated with one Bridge as specified by a ''Bridge'' table entry.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Filter> viewFilters() {
+		return filters == null ? Collections.emptyList() : filters;
+	}
+
 	/**
 	 * Set the filter table containing filter entries each of which is associated with one Bridge as specified by a ''Bridge'' table entry.
 	 *
@@ -259,10 +292,20 @@ public class Layer2Bridging {
 	 * @return the value
 	 */
 	public Collection<Marking> getMarkings() {
-		if (this.markings == null){ this.markings=new ArrayList<>();}
+		if (!(this.markings instanceof InstanceTable)){ this.markings=InstanceTable.of(this.markings);}
 		return markings;
 	}
 
+	/**
+	 * Read the marking table identifying non-default layer-2 marking behavior for packets on egress from the specified interfaces.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Marking> viewMarkings() {
+		return markings == null ? Collections.emptyList() : markings;
+	}
+
 	/**
 	 * Set the marking table identifying non-default layer-2 marking behavior for packets on egress from the specified interfaces.
 	 *
@@ -289,10 +332,20 @@ public class Layer2Bridging {
 	 * @return the value
 	 */
 	public Collection<AvailableInterface> getAvailableInterfaces() {
-		if (this.availableInterfaces == null){ this.availableInterfaces=new ArrayList<>();}
+		if (!(this.availableInterfaces instanceof InstanceTable)){ this.availableInterfaces=InstanceTable.of(this.availableInterfaces);}
 		return availableInterfaces;
 	}
 
+	/**
+	 * Read the table containing all LAN and WAN interfaces that are available to be referenced by the ''Bridge'' table.  Only interfaces that can carry layer-2 bridged traffic are included.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AvailableInterface> viewAvailableInterfaces() {
+		return availableInterfaces == null ? Collections.emptyList() : availableInterfaces;
+	}
+
 	/**
 	 * Set the table containing all LAN and WAN interfaces that are available to be referenced by the ''Bridge'' table.  Only interfaces that can carry layer-2 bridged traffic are included.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr143.internetgatewaydevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr143.internetgatewaydevice.layer3forwarding.Forwarding;
 
 	/**
@@ -68,6 +70,11 @@ For each incoming packet, the layer-3 forwarding decision is conceptually made a
 	@CWMPParameter(access = "readWrite")
 	public Collection<Forwarding> forwardings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Layer3Forwarding() {
 	}
 
@@ -90,6 +97,7 @@ For each incoming packet, the layer-3 forwarding decision is conceptually made a
 	 */
 	public void  setDefaultConnectionService(String defaultConnectionService) {
 		this.defaultConnectionService = defaultConnectionService;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -101,6 +109,7 @@ For each incoming packet, the layer-3 forwarding decision is conceptually made a
 	 */
 	public Layer3Forwarding withDefaultConnectionService(String defaultConnectionService) {
 		this.defaultConnectionService = defaultConnectionService;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,10 +131,32 @@ For each incoming packet, the layer-3 forwarding decision is conceptually made a
 	 * @return the value
 	 */
 	public Collection<Forwarding> getForwardings() {
-		if (this.forwardings == null){ this.forwardings=new ArrayList<>();}
+		if (!(this.forwardings instanceof InstanceTable)){ this.forwardings=InstanceTable.of(this.forwardings);}
 		return forwardings;
 	}
 
+	/**
+	 * Read the layer-3 forwarding table.
+
+In addition to statically configured routes, this table MUST include dynamic routes learned through layer-3 routing protocols, including RIP, OSPF, DHCP, and IPCP.  The CPE MAY reject attempts to delete or modify a dynamic route entry.
+
+For each incoming packet, the layer-3 forwarding decision is conceptually made as follows:
+
+* Only table entries with a matching {{param|ForwardingPolicy}} are considered, i.e. those that either do not specify a {{param|ForwardingPolicy}}, or else specify a {{param|ForwardingPolicy}} that matches that of the incoming packet. 
+
+* For the remaining table entries, those for which the source address/mask matches are sorted by longest prefix, i.e. with the most specific networks first (an unspecified source address is a wild-card and always matches, with a prefix length of zero). 
+
+* For the remaining table entries, those for which the destination address/mask matches are sorted by longest prefix, i.e. with the most specific networks first (an unspecified destination address is a wild-card and always matches, with a prefix length of zero). 
+
+* The first of the remaining table entries is applied to the packet.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Forwarding> viewForwardings() {
+		return forwardings == null ? Collections.emptyList() : forwardings;
+	}
+
 	/**
 	 * Set the layer-3 forwarding table.
 
@@ -16,8 +16,8 @@
 package org.broadbandforum.tr143.internetgatewaydevice;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +25,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr143.internetgatewaydevice.managementserver.ManageableDevice;
 
 	/**
@@ -112,6 +116,7 @@ If absolute time is not available to the CPE, its periodic Inform behavior MUST
 	 * @since 1.0
 	 */
 	@XmlElement(name = "PeriodicInformTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicInformTime;
 	/**
@@ -311,6 +316,11 @@ When STUNEnable is {{false}}, this value MUST be {{false}}.
 	@XmlElement(name = "ManageableDevice")
 	public Collection<ManageableDevice> manageableDevices;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ManagementServer() {
 	}
 
@@ -345,6 +355,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -362,6 +373,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -391,6 +403,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -406,6 +419,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -435,6 +449,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -450,6 +465,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -471,6 +487,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -482,6 +499,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -503,6 +521,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public void  setPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -514,6 +533,7 @@ Note that on a factory reset of the CPE, the value of this parameter might be re
 	 */
 	public ManagementServer withPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -551,6 +571,7 @@ If absolute time is not available to the CPE, its periodic Inform behavior MUST
 	 */
 	public void  setPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -570,6 +591,7 @@ If absolute time is not available to the CPE, its periodic Inform behavior MUST
 	 */
 	public ManagementServer withPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -599,6 +621,7 @@ The CPE MUST only modify the value of {{param}} as a result of SetParameterValue
 	 */
 	public void  setParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -614,6 +637,7 @@ The CPE MUST only modify the value of {{param}} as a result of SetParameterValue
 	 */
 	public ManagementServer withParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -647,6 +671,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -664,6 +689,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -685,6 +711,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -696,6 +723,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -717,6 +745,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -728,6 +757,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -749,6 +779,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public void  setUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -760,6 +791,7 @@ The ''host'' portion of the URL MAY be the IP address for the management interfa
 	 */
 	public ManagementServer withUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -785,6 +817,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, from which the CPE can be
 	 */
 	public void  setKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -798,6 +831,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, from which the CPE can be
 	 */
 	public ManagementServer withKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -823,6 +857,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, to which a web-server asso
 	 */
 	public void  setDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -836,6 +871,7 @@ LAN-accessible URL, as defined in {{bibref|RFC3986}}, to which a web-server asso
 	 */
 	public ManagementServer withDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -881,6 +917,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public void  setUdpConnectionRequestAddress(String udpConnectionRequestAddress) {
 		this.udpConnectionRequestAddress = udpConnectionRequestAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -904,6 +941,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public ManagementServer withUdpConnectionRequestAddress(String udpConnectionRequestAddress) {
 		this.udpConnectionRequestAddress = udpConnectionRequestAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -925,6 +963,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public void  setUdpConnectionRequestAddressNotificationLimit(Long udpConnectionRequestAddressNotificationLimit) {
 		this.udpConnectionRequestAddressNotificationLimit = udpConnectionRequestAddressNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -936,6 +975,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public ManagementServer withUdpConnectionRequestAddressNotificationLimit(Long udpConnectionRequestAddressNotificationLimit) {
 		this.udpConnectionRequestAddressNotificationLimit = udpConnectionRequestAddressNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -957,6 +997,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public void  setStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -968,6 +1009,7 @@ The second form of this parameter MAY be used only if the port value is equal to
 	 */
 	public ManagementServer withStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -993,6 +1035,7 @@ If {{empty}} and {{param|STUNEnable}} is {{true}}, the CPE MUST use the address
 	 */
 	public void  setStuNServerAddress(String stuNServerAddress) {
 		this.stuNServerAddress = stuNServerAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1006,6 +1049,7 @@ If {{empty}} and {{param|STUNEnable}} is {{true}}, the CPE MUST use the address
 	 */
 	public ManagementServer withStuNServerAddress(String stuNServerAddress) {
 		this.stuNServerAddress = stuNServerAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1031,6 +1075,7 @@ By default, this SHOULD be the equal to the default STUN port, 3478.
 	 */
 	public void  setStuNServerPort(Long stuNServerPort) {
 		this.stuNServerPort = stuNServerPort;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1044,6 +1089,7 @@ By default, this SHOULD be the equal to the default STUN port, 3478.
 	 */
 	public ManagementServer withStuNServerPort(Long stuNServerPort) {
 		this.stuNServerPort = stuNServerPort;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1069,6 +1115,7 @@ If {{empty}}, the CPE MUST NOT send STUN Binding Requests with message integrity
 	 */
 	public void  setStuNUsername(String stuNUsername) {
 		this.stuNUsername = stuNUsername;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1082,6 +1129,7 @@ If {{empty}}, the CPE MUST NOT send STUN Binding Requests with message integrity
 	 */
 	public ManagementServer withStuNUsername(String stuNUsername) {
 		this.stuNUsername = stuNUsername;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1103,6 +1151,7 @@ If {{empty}}, the CPE MUST NOT send STUN Binding Requests with message integrity
 	 */
 	public void  setStuNPassword(String stuNPassword) {
 		this.stuNPassword = stuNPassword;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1114,6 +1163,7 @@ If {{empty}}, the CPE MUST NOT send STUN Binding Requests with message integrity
 	 */
 	public ManagementServer withStuNPassword(String stuNPassword) {
 		this.stuNPassword = stuNPassword;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1139,6 +1189,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public void  setStuNMaximumKeepAlivePeriod(Integer stuNMaximumKeepAlivePeriod) {
 		this.stuNMaximumKeepAlivePeriod = stuNMaximumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1152,6 +1203,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public ManagementServer withStuNMaximumKeepAlivePeriod(Integer stuNMaximumKeepAlivePeriod) {
 		this.stuNMaximumKeepAlivePeriod = stuNMaximumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1173,6 +1225,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public void  setStuNMinimumKeepAlivePeriod(Long stuNMinimumKeepAlivePeriod) {
 		this.stuNMinimumKeepAlivePeriod = stuNMinimumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1184,6 +1237,7 @@ A value of -1 indicates that no maximum period is specified.
 	 */
 	public ManagementServer withStuNMinimumKeepAlivePeriod(Long stuNMinimumKeepAlivePeriod) {
 		this.stuNMinimumKeepAlivePeriod = stuNMinimumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1213,6 +1267,7 @@ When STUNEnable is {{false}}, this value MUST be {{false}}.
 	 */
 	public void  setNatDetected(Boolean natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1228,6 +1283,7 @@ When STUNEnable is {{false}}, this value MUST be {{false}}.
 	 */
 	public ManagementServer withNatDetected(Boolean natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1249,6 +1305,7 @@ When STUNEnable is {{false}}, this value MUST be {{false}}.
 	 */
 	public void  setManageableDeviceNotificationLimit(Long manageableDeviceNotificationLimit) {
 		this.manageableDeviceNotificationLimit = manageableDeviceNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1260,6 +1317,7 @@ When STUNEnable is {{false}}, this value MUST be {{false}}.
 	 */
 	public ManagementServer withManageableDeviceNotificationLimit(Long manageableDeviceNotificationLimit) {
 		this.manageableDeviceNotificationLimit = manageableDeviceNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1269,10 +1327,20 @@ When STUNEnable is {{false}}, this value MUST be {{false}}.
 	 * @return the value
 	 */
 	public Collection<ManageableDevice> getManageableDevices() {
-		if (this.manageableDevices == null){ this.manageableDevices=new ArrayList<>();}
+		if (!(this.manageableDevices instanceof InstanceTable)){ this.manageableDevices=InstanceTable.of(this.manageableDevices);}
 		return manageableDevices;
 	}
 
+	/**
+	 * Read the each entry in this table corresponds to a distinct LAN Device that supports Device-Gateway Association according to {{bibref|TR-069a1|Annex F}} as indicated by the presence of the DHCP option specified in that Annex.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ManageableDevice> viewManageableDevices() {
+		return manageableDevices == null ? Collections.emptyList() : manageableDevices;
+	}
+
 	/**
 	 * Set the each entry in this table corresponds to a distinct LAN Device that supports Device-Gateway Association according to {{bibref|TR-069a1|Annex F}} as indicated by the presence of the DHCP option specified in that Annex.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr143.internetgatewaydevice.queuemanagement.App;
 import org.broadbandforum.tr143.internetgatewaydevice.queuemanagement.Classification;
 import org.broadbandforum.tr143.internetgatewaydevice.queuemanagement.Flow;
@@ -200,6 +203,11 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	@CWMPParameter(access = "readWrite")
 	public Collection<Queue> queues;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QueueManagement() {
 	}
 
@@ -222,6 +230,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -233,6 +242,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -254,6 +264,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setMaxQueues(Long maxQueues) {
 		this.maxQueues = maxQueues;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -265,6 +276,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withMaxQueues(Long maxQueues) {
 		this.maxQueues = maxQueues;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -286,6 +298,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setMaxClassificationEntries(Long maxClassificationEntries) {
 		this.maxClassificationEntries = maxClassificationEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -297,6 +310,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withMaxClassificationEntries(Long maxClassificationEntries) {
 		this.maxClassificationEntries = maxClassificationEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -318,6 +332,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setMaxAppEntries(Long maxAppEntries) {
 		this.maxAppEntries = maxAppEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -329,6 +344,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withMaxAppEntries(Long maxAppEntries) {
 		this.maxAppEntries = maxAppEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -350,6 +366,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setMaxFlowEntries(Long maxFlowEntries) {
 		this.maxFlowEntries = maxFlowEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -361,6 +378,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withMaxFlowEntries(Long maxFlowEntries) {
 		this.maxFlowEntries = maxFlowEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -382,6 +400,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setMaxPolicerEntries(Long maxPolicerEntries) {
 		this.maxPolicerEntries = maxPolicerEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -393,6 +412,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withMaxPolicerEntries(Long maxPolicerEntries) {
 		this.maxPolicerEntries = maxPolicerEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -414,6 +434,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setMaxQueueEntries(Long maxQueueEntries) {
 		this.maxQueueEntries = maxQueueEntries;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -425,6 +446,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withMaxQueueEntries(Long maxQueueEntries) {
 		this.maxQueueEntries = maxQueueEntries;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -446,6 +468,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public void  setDefaultForwardingPolicy(Long defaultForwardingPolicy) {
 		this.defaultForwardingPolicy = defaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -457,6 +480,7 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 */
 	public QueueManagement withDefaultForwardingPolicy(Long defaultForwardingPolicy) {
 		this.defaultForwardingPolicy = defaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -482,6 +506,7 @@ A value of -1 indicates a null policer.
 	 */
 	public void  setDefaultPolicer(Integer defaultPolicer) {
 		this.defaultPolicer = defaultPolicer;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -495,6 +520,7 @@ A value of -1 indicates a null policer.
 	 */
 	public QueueManagement withDefaultPolicer(Integer defaultPolicer) {
 		this.defaultPolicer = defaultPolicer;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -516,6 +542,7 @@ A value of -1 indicates a null policer.
 	 */
 	public void  setDefaultQueue(Long defaultQueue) {
 		this.defaultQueue = defaultQueue;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -527,6 +554,7 @@ A value of -1 indicates a null policer.
 	 */
 	public QueueManagement withDefaultQueue(Long defaultQueue) {
 		this.defaultQueue = defaultQueue;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -556,6 +584,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public void  setDefaultDSCPMark(Integer defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -571,6 +600,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public QueueManagement withDefaultDSCPMark(Integer defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -600,6 +630,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public void  setDefaultEthernetPriorityMark(Integer defaultEthernetPriorityMark) {
 		this.defaultEthernetPriorityMark = defaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -615,6 +646,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public QueueManagement withDefaultEthernetPriorityMark(Integer defaultEthernetPriorityMark) {
 		this.defaultEthernetPriorityMark = defaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -629,6 +661,17 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 		return availableAppList;
 	}
 
+	/**
+	 * Read the urns, each indicating a protocol supported for use as a ProtocolIdentifier in the App table.  This list MAY include any of the URNs defined in {{bibref|TR-098a1|Annex A}} as well as other URNs defined elsewhere.
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAvailableAppList() {
+		return availableAppList == null ? Collections.emptyList() : availableAppList;
+	}
+
 	/**
 	 * Set the urns, each indicating a protocol supported for use as a ProtocolIdentifier in the App table.  This list MAY include any of the URNs defined in {{bibref|TR-098a1|Annex A}} as well as other URNs defined elsewhere.
 	 *
@@ -637,6 +680,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public void  setAvailableAppList(Collection<String> availableAppList) {
 		this.availableAppList = availableAppList;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -648,6 +692,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public QueueManagement withAvailableAppList(String string) {
 		getAvailableAppList().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -657,10 +702,20 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 * @return the value
 	 */
 	public Collection<Classification> getClassifications() {
-		if (this.classifications == null){ this.classifications=new ArrayList<>();}
+		if (!(this.classifications instanceof InstanceTable)){ this.classifications=InstanceTable.of(this.classifications);}
 		return classifications;
 	}
 
+	/**
+	 * Read the classification table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Classification> viewClassifications() {
+		return classifications == null ? Collections.emptyList() : classifications;
+	}
+
 	/**
 	 * Set the classification table.
 	 *
@@ -687,10 +742,20 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 * @return the value
 	 */
 	public Collection<App> getApps() {
-		if (this.apps == null){ this.apps=new ArrayList<>();}
+		if (!(this.apps instanceof InstanceTable)){ this.apps=InstanceTable.of(this.apps);}
 		return apps;
 	}
 
+	/**
+	 * Get application table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<App> viewApps() {
+		return apps == null ? Collections.emptyList() : apps;
+	}
+
 	/**
 	 * Set application table.
 	 *
@@ -717,10 +782,20 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 * @return the value
 	 */
 	public Collection<Flow> getFlows() {
-		if (this.flows == null){ this.flows=new ArrayList<>();}
+		if (!(this.flows instanceof InstanceTable)){ this.flows=InstanceTable.of(this.flows);}
 		return flows;
 	}
 
+	/**
+	 * Read the flow table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Flow> viewFlows() {
+		return flows == null ? Collections.emptyList() : flows;
+	}
+
 	/**
 	 * Set the flow table.
 	 *
@@ -747,10 +822,20 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 * @return the value
 	 */
 	public Collection<Policer> getPolicers() {
-		if (this.policers == null){ this.policers=new ArrayList<>();}
+		if (!(this.policers instanceof InstanceTable)){ this.policers=InstanceTable.of(this.policers);}
 		return policers;
 	}
 
+	/**
+	 * Read the policer table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Policer> viewPolicers() {
+		return policers == null ? Collections.emptyList() : policers;
+	}
+
 	/**
 	 * Set the policer table.
 	 *
@@ -779,10 +864,22 @@ This table can contain hardware queues.  The CPE MAY refuse to allow hardware qu
 	 * @return the value
 	 */
 	public Collection<Queue> getQueues() {
-		if (this.queues == null){ this.queues=new ArrayList<>();}
+		if (!(this.queues instanceof InstanceTable)){ this.queues=InstanceTable.of(this.queues);}
 		return queues;
 	}
 
+	/**
+	 * Read the queue table.
+
+This table can contain hardware queues.  The CPE MAY refuse to allow hardware queues to be deleted.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Queue> viewQueues() {
+		return queues == null ? Collections.emptyList() : queues;
+	}
+
 	/**
 	 * Set the queue table.
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating an NTP or SNTP time client in the CPE.
@@ -87,6 +90,7 @@ public class Time {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "CurrentLocalTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime currentLocalTime;
 	/**
@@ -125,6 +129,7 @@ public class Time {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "DaylightSavingsStart")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime daylightSavingsStart;
 	/**
@@ -133,9 +138,15 @@ public class Time {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "DaylightSavingsEnd")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime daylightSavingsEnd;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Time() {
 	}
 
@@ -158,6 +169,7 @@ public class Time {
 	 */
 	public void  setNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -169,6 +181,7 @@ public class Time {
 	 */
 	public Time withNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -190,6 +203,7 @@ public class Time {
 	 */
 	public void  setNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -201,6 +215,7 @@ public class Time {
 	 */
 	public Time withNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -222,6 +237,7 @@ public class Time {
 	 */
 	public void  setNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -233,6 +249,7 @@ public class Time {
 	 */
 	public Time withNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -254,6 +271,7 @@ public class Time {
 	 */
 	public void  setNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -265,6 +283,7 @@ public class Time {
 	 */
 	public Time withNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -286,6 +305,7 @@ public class Time {
 	 */
 	public void  setNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -297,6 +317,7 @@ public class Time {
 	 */
 	public Time withNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -318,6 +339,7 @@ public class Time {
 	 */
 	public void  setCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -329,6 +351,7 @@ public class Time {
 	 */
 	public Time withCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -358,6 +381,7 @@ public class Time {
 	 */
 	public void  setLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -373,6 +397,7 @@ public class Time {
 	 */
 	public Time withLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -394,6 +419,7 @@ public class Time {
 	 */
 	public void  setLocalTimeZoneName(String localTimeZoneName) {
 		this.localTimeZoneName = localTimeZoneName;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -405,6 +431,7 @@ public class Time {
 	 */
 	public Time withLocalTimeZoneName(String localTimeZoneName) {
 		this.localTimeZoneName = localTimeZoneName;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -426,6 +453,7 @@ public class Time {
 	 */
 	public void  setDaylightSavingsUsed(Boolean daylightSavingsUsed) {
 		this.daylightSavingsUsed = daylightSavingsUsed;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -437,6 +465,7 @@ public class Time {
 	 */
 	public Time withDaylightSavingsUsed(Boolean daylightSavingsUsed) {
 		this.daylightSavingsUsed = daylightSavingsUsed;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -458,6 +487,7 @@ public class Time {
 	 */
 	public void  setDaylightSavingsStart(LocalDateTime daylightSavingsStart) {
 		this.daylightSavingsStart = daylightSavingsStart;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -469,6 +499,7 @@ public class Time {
 	 */
 	public Time withDaylightSavingsStart(LocalDateTime daylightSavingsStart) {
 		this.daylightSavingsStart = daylightSavingsStart;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -490,6 +521,7 @@ public class Time {
 	 */
 	public void  setDaylightSavingsEnd(LocalDateTime daylightSavingsEnd) {
 		this.daylightSavingsEnd = daylightSavingsEnd;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -501,6 +533,7 @@ public class Time {
 	 */
 	public Time withDaylightSavingsEnd(LocalDateTime daylightSavingsEnd) {
 		this.daylightSavingsEnd = daylightSavingsEnd;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
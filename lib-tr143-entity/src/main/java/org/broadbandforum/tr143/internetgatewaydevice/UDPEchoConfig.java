@@ -22,9 +22,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object allows the CPE to be configured to perform the UDP Echo Service defined in {{bibref|RFC862}} and UDP Echo Plus Service defined in {{bibref|TR-143|Appendix A.1}}.
@@ -133,6 +136,7 @@ The time that the server receives the first UDP echo packet after the UDPEchoCon
 	 * @since 1.3
 	 */
 	@XmlElement(name = "TimeFirstPacketReceived")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime timeFirstPacketReceived;
 	/**
@@ -145,9 +149,15 @@ The time that the server receives the most recent UDP echo packet.
 	 * @since 1.3
 	 */
 	@XmlElement(name = "TimeLastPacketReceived")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime timeLastPacketReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UDPEchoConfig() {
 	}
 
@@ -170,6 +180,7 @@ The time that the server receives the most recent UDP echo packet.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -181,6 +192,7 @@ The time that the server receives the most recent UDP echo packet.
 	 */
 	public UDPEchoConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -214,6 +226,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -231,6 +244,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -252,6 +266,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setSourceIPAddress(IPAddress sourceIPAddress) {
 		this.sourceIPAddress = sourceIPAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -263,6 +278,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withSourceIPAddress(IPAddress sourceIPAddress) {
 		this.sourceIPAddress = sourceIPAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -284,6 +300,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setUdpPort(Long udpPort) {
 		this.udpPort = udpPort;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -295,6 +312,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withUdpPort(Long udpPort) {
 		this.udpPort = udpPort;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -316,6 +334,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setEchoPlusEnabled(Boolean echoPlusEnabled) {
 		this.echoPlusEnabled = echoPlusEnabled;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -327,6 +346,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withEchoPlusEnabled(Boolean echoPlusEnabled) {
 		this.echoPlusEnabled = echoPlusEnabled;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -348,6 +368,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setEchoPlusSupported(Boolean echoPlusSupported) {
 		this.echoPlusSupported = echoPlusSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -359,6 +380,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withEchoPlusSupported(Boolean echoPlusSupported) {
 		this.echoPlusSupported = echoPlusSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -380,6 +402,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -391,6 +414,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -412,6 +436,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setPacketsResponded(Long packetsResponded) {
 		this.packetsResponded = packetsResponded;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -423,6 +448,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withPacketsResponded(Long packetsResponded) {
 		this.packetsResponded = packetsResponded;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -444,6 +470,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -455,6 +482,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -476,6 +504,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public void  setBytesResponded(Long bytesResponded) {
 		this.bytesResponded = bytesResponded;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -487,6 +516,7 @@ Note: Interfaces behind a NAT MAY require port forwarding rules configured in th
 	 */
 	public UDPEchoConfig withBytesResponded(Long bytesResponded) {
 		this.bytesResponded = bytesResponded;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -516,6 +546,7 @@ The time that the server receives the first UDP echo packet after the UDPEchoCon
 	 */
 	public void  setTimeFirstPacketReceived(LocalDateTime timeFirstPacketReceived) {
 		this.timeFirstPacketReceived = timeFirstPacketReceived;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -531,6 +562,7 @@ The time that the server receives the first UDP echo packet after the UDPEchoCon
 	 */
 	public UDPEchoConfig withTimeFirstPacketReceived(LocalDateTime timeFirstPacketReceived) {
 		this.timeFirstPacketReceived = timeFirstPacketReceived;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -560,6 +592,7 @@ The time that the server receives the most recent UDP echo packet.
 	 */
 	public void  setTimeLastPacketReceived(LocalDateTime timeLastPacketReceived) {
 		this.timeLastPacketReceived = timeLastPacketReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -575,6 +608,7 @@ The time that the server receives the most recent UDP echo packet.
 	 */
 	public UDPEchoConfig withTimeLastPacketReceived(LocalDateTime timeLastPacketReceived) {
 		this.timeLastPacketReceived = timeLastPacketReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object defines the diagnostics configuration for a HTTP or FTP UploadDiagnostics test. 
@@ -136,6 +139,7 @@ For example: 2008-04-09T15:01:05.123456
 	 * @since 1.3
 	 */
 	@XmlElement(name = "ROMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime romTime;
 	/**
@@ -150,6 +154,7 @@ For example: 2008-04-09T15:01:05.123456
 	 * @since 1.3
 	 */
 	@XmlElement(name = "BOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime bomTime;
 	/**
@@ -164,6 +169,7 @@ For example: 2008-04-09T15:01:05.123456
 	 * @since 1.3
 	 */
 	@XmlElement(name = "EOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime eomTime;
 	/**
@@ -188,6 +194,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 * @since 1.3
 	 */
 	@XmlElement(name = "TCPOpenRequestTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenRequestTime;
 	/**
@@ -204,9 +211,15 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 * @since 1.3
 	 */
 	@XmlElement(name = "TCPOpenResponseTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UploadDiagnostics() {
 	}
 
@@ -265,6 +278,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -294,6 +308,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public UploadDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -323,6 +338,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -338,6 +354,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public UploadDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -371,6 +388,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public void  setUploadURL(String uploadURL) {
 		this.uploadURL = uploadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -388,6 +406,7 @@ If {{empty}} is specified, the CPE MUST use the default routing interface.
 	 */
 	public UploadDiagnostics withUploadURL(String uploadURL) {
 		this.uploadURL = uploadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -413,6 +432,7 @@ The default value SHOULD be zero.
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -426,6 +446,7 @@ The default value SHOULD be zero.
 	 */
 	public UploadDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -451,6 +472,7 @@ The default value SHOULD be zero.
 	 */
 	public void  setEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -464,6 +486,7 @@ The default value SHOULD be zero.
 	 */
 	public UploadDiagnostics withEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -489,6 +512,7 @@ The CPE MUST insure the appropriate number of bytes are sent.
 	 */
 	public void  setTestFileLength(Long testFileLength) {
 		this.testFileLength = testFileLength;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -502,6 +526,7 @@ The CPE MUST insure the appropriate number of bytes are sent.
 	 */
 	public UploadDiagnostics withTestFileLength(Long testFileLength) {
 		this.testFileLength = testFileLength;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -535,6 +560,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -552,6 +578,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public UploadDiagnostics withRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -585,6 +612,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -602,6 +630,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public UploadDiagnostics withBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -635,6 +664,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -652,6 +682,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public UploadDiagnostics withEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -673,6 +704,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -684,6 +716,7 @@ For example: 2008-04-09T15:01:05.123456
 	 */
 	public UploadDiagnostics withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -721,6 +754,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public void  setTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -740,6 +774,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public UploadDiagnostics withTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -777,6 +812,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public void  setTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -796,6 +832,7 @@ Note: Interval of 1 microsecond SHOULD be supported.
 	 */
 	public UploadDiagnostics withTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
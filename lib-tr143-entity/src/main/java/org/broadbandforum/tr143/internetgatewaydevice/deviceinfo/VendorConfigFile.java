@@ -22,8 +22,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor Configuration File.
@@ -72,6 +76,7 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	 * @since 1.0
 	 */
 	@XmlElement(name = "Date")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime date;
 	/**
 	 * A description of the vendor configuration file (human-readable string).
@@ -82,6 +87,16 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	@Size(max = 256)
 	public String description;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VendorConfigFile() {
 	}
 
@@ -116,6 +131,8 @@ Otherwise, the value of this parameter MUST be set to the value of the TargetFil
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -133,6 +150,8 @@ Otherwise, the value of this parameter MUST be set to the value of the TargetFil
 	 */
 	public VendorConfigFile withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -162,6 +181,7 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -177,6 +197,7 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	 */
 	public VendorConfigFile withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -198,6 +219,7 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	 */
 	public void  setDate(LocalDateTime date) {
 		this.date = date;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -209,6 +231,7 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	 */
 	public VendorConfigFile withDate(LocalDateTime date) {
 		this.date = date;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -230,6 +253,7 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -241,6 +265,7 @@ Otherwise, the value of this parameter MUST be {{empty}}.
 	 */
 	public VendorConfigFile withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
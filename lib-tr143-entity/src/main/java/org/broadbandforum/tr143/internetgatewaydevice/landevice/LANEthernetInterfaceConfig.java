@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.lanethernetinterfaceconfig.Stats;
 
@@ -91,6 +93,16 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LANEthernetInterfaceConfig() {
 	}
 
@@ -113,6 +125,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -124,6 +137,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANEthernetInterfaceConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -149,6 +163,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -162,6 +177,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANEthernetInterfaceConfig withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -183,6 +199,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -194,6 +212,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANEthernetInterfaceConfig withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -215,6 +235,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -226,6 +247,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANEthernetInterfaceConfig withMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -247,6 +269,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -258,6 +281,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANEthernetInterfaceConfig withMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -279,6 +303,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -290,6 +315,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANEthernetInterfaceConfig withDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr143.internetgatewaydevice.landevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,7 +26,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.lanhostconfigmanagement.IPInterface;
 
@@ -189,6 +191,11 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	@CWMPParameter(access = "readWrite")
 	public Collection<IPInterface> ipinterfaces;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LANHostConfigManagement() {
 	}
 
@@ -211,6 +218,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public void  setDhcPServerConfigurable(Boolean dhcPServerConfigurable) {
 		this.dhcPServerConfigurable = dhcPServerConfigurable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -222,6 +230,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public LANHostConfigManagement withDhcPServerConfigurable(Boolean dhcPServerConfigurable) {
 		this.dhcPServerConfigurable = dhcPServerConfigurable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -243,6 +252,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public void  setDhcPServerEnable(Boolean dhcPServerEnable) {
 		this.dhcPServerEnable = dhcPServerEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -254,6 +264,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public LANHostConfigManagement withDhcPServerEnable(Boolean dhcPServerEnable) {
 		this.dhcPServerEnable = dhcPServerEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -279,6 +290,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setDhcPRelay(Boolean dhcPRelay) {
 		this.dhcPRelay = dhcPRelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -292,6 +304,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withDhcPRelay(Boolean dhcPRelay) {
 		this.dhcPRelay = dhcPRelay;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -313,6 +326,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setMinAddress(IPAddress minAddress) {
 		this.minAddress = minAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -324,6 +338,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withMinAddress(IPAddress minAddress) {
 		this.minAddress = minAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -345,6 +360,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setMaxAddress(IPAddress maxAddress) {
 		this.maxAddress = maxAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -356,6 +372,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withMaxAddress(IPAddress maxAddress) {
 		this.maxAddress = maxAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -377,6 +394,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setReservedAddresses(IPAddress reservedAddresses) {
 		this.reservedAddresses = reservedAddresses;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -388,6 +406,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withReservedAddresses(IPAddress reservedAddresses) {
 		this.reservedAddresses = reservedAddresses;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -409,6 +428,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -420,6 +440,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -441,6 +462,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -452,6 +474,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -473,6 +496,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -484,6 +508,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -505,6 +530,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setIprouters(IPAddress iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -516,6 +542,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withIprouters(IPAddress iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -537,6 +564,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public void  setDhcPLeaseTime(Integer dhcPLeaseTime) {
 		this.dhcPLeaseTime = dhcPLeaseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -548,6 +576,7 @@ This parameter is DEPRECATED because the functionality that it describes is not
 	 */
 	public LANHostConfigManagement withDhcPLeaseTime(Integer dhcPLeaseTime) {
 		this.dhcPLeaseTime = dhcPLeaseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -581,6 +610,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public void  setUseAllocatedWAN(String useAllocatedWAN) {
 		this.useAllocatedWAN = useAllocatedWAN;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -598,6 +628,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public LANHostConfigManagement withUseAllocatedWAN(String useAllocatedWAN) {
 		this.useAllocatedWAN = useAllocatedWAN;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -619,6 +650,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public void  setAssociatedConnection(String associatedConnection) {
 		this.associatedConnection = associatedConnection;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -630,6 +662,7 @@ If {{enum|Passthrough}}, then the specified LAN Host identified by the Passthrou
 	 */
 	public LANHostConfigManagement withAssociatedConnection(String associatedConnection) {
 		this.associatedConnection = associatedConnection;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -655,6 +688,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public void  setPassthroughLease(Long passthroughLease) {
 		this.passthroughLease = passthroughLease;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -668,6 +702,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public LANHostConfigManagement withPassthroughLease(Long passthroughLease) {
 		this.passthroughLease = passthroughLease;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -689,6 +724,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public void  setPassthroughMACAddress(MACAddress passthroughMACAddress) {
 		this.passthroughMACAddress = passthroughMACAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -700,6 +736,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public LANHostConfigManagement withPassthroughMACAddress(MACAddress passthroughMACAddress) {
 		this.passthroughMACAddress = passthroughMACAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -721,6 +758,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public void  setAllowedMACAddresses(MACAddress allowedMACAddresses) {
 		this.allowedMACAddresses = allowedMACAddresses;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -732,6 +770,7 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 */
 	public LANHostConfigManagement withAllowedMACAddresses(MACAddress allowedMACAddresses) {
 		this.allowedMACAddresses = allowedMACAddresses;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -741,10 +780,20 @@ Note: A temporary private IP address with short lease (for example, 1 min) might
 	 * @return the value
 	 */
 	public Collection<IPInterface> getIpinterfaces() {
-		if (this.ipinterfaces == null){ this.ipinterfaces=new ArrayList<>();}
+		if (!(this.ipinterfaces instanceof InstanceTable)){ this.ipinterfaces=InstanceTable.of(this.ipinterfaces);}
 		return ipinterfaces;
 	}
 
+	/**
+	 * Read the ip interface table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPInterface> viewIpinterfaces() {
+		return ipinterfaces == null ? Collections.emptyList() : ipinterfaces;
+	}
+
 	/**
 	 * Set the ip interface table.
 	 *
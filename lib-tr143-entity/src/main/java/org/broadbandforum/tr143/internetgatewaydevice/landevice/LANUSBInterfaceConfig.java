@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.lanusbinterfaceconfig.Stats;
 
@@ -105,6 +107,16 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LANUSBInterfaceConfig() {
 	}
 
@@ -127,6 +139,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -138,6 +151,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -176,6 +191,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -197,6 +213,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -208,6 +226,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -229,6 +249,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -240,6 +261,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -261,6 +283,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -272,6 +295,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -293,6 +317,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -304,6 +329,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -325,6 +351,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -336,6 +363,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -357,6 +385,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setPower(String power) {
 		this.power = power;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -368,6 +397,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public LANUSBInterfaceConfig withPower(String power) {
 		this.power = power;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice.landevice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.wlanconfiguration.AssociatedDevice;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.wlanconfiguration.PreSharedKey;
 import org.broadbandforum.tr143.internetgatewaydevice.landevice.wlanconfiguration.WEPKey;
@@ -467,6 +470,16 @@ Ranges in the form "n-m" are permitted.
 	@CWMPParameter(minEntries = 10, maxEntries = 10)
 	public Collection<PreSharedKey> preSharedKeies;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public WLANConfiguration() {
 	}
 
@@ -493,6 +506,7 @@ When there are multiple ''WLANConfiguration'' instances, e.g. each instance supp
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -506,6 +520,7 @@ When there are multiple ''WLANConfiguration'' instances, e.g. each instance supp
 	 */
 	public WLANConfiguration withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -531,6 +546,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -544,6 +560,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WLANConfiguration withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -565,6 +582,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setBssID(String bssID) {
 		this.bssID = bssID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -576,6 +595,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WLANConfiguration withBssID(String bssID) {
 		this.bssID = bssID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -597,6 +618,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -608,6 +630,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WLANConfiguration withMaxBitRate(String maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -629,6 +652,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setChannel(Long channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -640,6 +664,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WLANConfiguration withChannel(Long channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -661,6 +686,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setSsiD(String ssiD) {
 		this.ssiD = ssiD;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -672,6 +699,8 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WLANConfiguration withSsiD(String ssiD) {
 		this.ssiD = ssiD;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -709,6 +738,7 @@ The OBSOLETED values are those for Basic + WPA/WPA2  mixed modes, which are not
 	 */
 	public void  setBeaconType(String beaconType) {
 		this.beaconType = beaconType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -728,6 +758,7 @@ The OBSOLETED values are those for Basic + WPA/WPA2  mixed modes, which are not
 	 */
 	public WLANConfiguration withBeaconType(String beaconType) {
 		this.beaconType = beaconType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -749,6 +780,7 @@ The OBSOLETED values are those for Basic + WPA/WPA2  mixed modes, which are not
 	 */
 	public void  setMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -760,6 +792,7 @@ The OBSOLETED values are those for Basic + WPA/WPA2  mixed modes, which are not
 	 */
 	public WLANConfiguration withMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -789,6 +822,7 @@ If the device is configured simultaneously for more than one standard, a separat
 	 */
 	public void  setStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -804,6 +838,7 @@ If the device is configured simultaneously for more than one standard, a separat
 	 */
 	public WLANConfiguration withStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -825,6 +860,7 @@ If the device is configured simultaneously for more than one standard, a separat
 	 */
 	public void  setWepKeyIndex(Long wepKeyIndex) {
 		this.wepKeyIndex = wepKeyIndex;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -836,6 +872,7 @@ If the device is configured simultaneously for more than one standard, a separat
 	 */
 	public WLANConfiguration withWepKeyIndex(Long wepKeyIndex) {
 		this.wepKeyIndex = wepKeyIndex;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -873,6 +910,7 @@ Note: If a passphrase is used, all four WEP keys will be the same.
 	 */
 	public void  setKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -892,6 +930,7 @@ Note: If a passphrase is used, all four WEP keys will be the same.
 	 */
 	public WLANConfiguration withKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -912,6 +951,23 @@ This parameter does not enforce a given encryption level but only indicates capa
 		return wepEncryptionLevel;
 	}
 
+	/**
+	 * Read the supported key lengths.  
+
+Enumerated value must be one of [Disabled, 40-bit, 104-bit]
+
+Any additional vendor-specific values MUST start with the key length in bits.
+
+This parameter does not enforce a given encryption level but only indicates capabilities.  The WEP encryption level for a given key is inferred from the key length.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewWepEncryptionLevel() {
+		return wepEncryptionLevel == null ? Collections.emptyList() : wepEncryptionLevel;
+	}
+
 	/**
 	 * Set the supported key lengths.  
 
@@ -926,6 +982,7 @@ This parameter does not enforce a given encryption level but only indicates capa
 	 */
 	public void  setWepEncryptionLevel(Collection<String> wepEncryptionLevel) {
 		this.wepEncryptionLevel = wepEncryptionLevel;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -943,6 +1000,7 @@ This parameter does not enforce a given encryption level but only indicates capa
 	 */
 	public WLANConfiguration withWepEncryptionLevel(String string) {
 		getWepEncryptionLevel().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -968,6 +1026,7 @@ If this ''WLANConfiguration'' instance does not support basic 802.11 then this p
 	 */
 	public void  setBasicEncryptionModes(String basicEncryptionModes) {
 		this.basicEncryptionModes = basicEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -981,6 +1040,7 @@ If this ''WLANConfiguration'' instance does not support basic 802.11 then this p
 	 */
 	public WLANConfiguration withBasicEncryptionModes(String basicEncryptionModes) {
 		this.basicEncryptionModes = basicEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1006,6 +1066,7 @@ If this ''WLANConfiguration'' instance does not support basic 802.11 then this p
 	 */
 	public void  setBasicAuthenticationMode(String basicAuthenticationMode) {
 		this.basicAuthenticationMode = basicAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1019,6 +1080,7 @@ If this ''WLANConfiguration'' instance does not support basic 802.11 then this p
 	 */
 	public WLANConfiguration withBasicAuthenticationMode(String basicAuthenticationMode) {
 		this.basicAuthenticationMode = basicAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1048,6 +1110,7 @@ The DEPRECATED values are those that combine WEP with TKIP and/or AES, which is
 	 */
 	public void  setWpaEncryptionModes(String wpaEncryptionModes) {
 		this.wpaEncryptionModes = wpaEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1063,6 +1126,7 @@ The DEPRECATED values are those that combine WEP with TKIP and/or AES, which is
 	 */
 	public WLANConfiguration withWpaEncryptionModes(String wpaEncryptionModes) {
 		this.wpaEncryptionModes = wpaEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1088,6 +1152,7 @@ If this ''WLANConfiguration'' instance does not support WPA then this parameter
 	 */
 	public void  setWpaAuthenticationMode(String wpaAuthenticationMode) {
 		this.wpaAuthenticationMode = wpaAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1101,6 +1166,7 @@ If this ''WLANConfiguration'' instance does not support WPA then this parameter
 	 */
 	public WLANConfiguration withWpaAuthenticationMode(String wpaAuthenticationMode) {
 		this.wpaAuthenticationMode = wpaAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1134,6 +1200,7 @@ The DEPRECATED values are those that combine WEP with TKIP and/or AES, which is
 	 */
 	public void  setIeeE11iEncryptionModes(String ieeE11iEncryptionModes) {
 		this.ieeE11iEncryptionModes = ieeE11iEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1151,6 +1218,7 @@ The DEPRECATED values are those that combine WEP with TKIP and/or AES, which is
 	 */
 	public WLANConfiguration withIeeE11iEncryptionModes(String ieeE11iEncryptionModes) {
 		this.ieeE11iEncryptionModes = ieeE11iEncryptionModes;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1180,6 +1248,7 @@ If this ''WLANConfiguration'' instance does not support 802.11i then this parame
 	 */
 	public void  setIeeE11iAuthenticationMode(String ieeE11iAuthenticationMode) {
 		this.ieeE11iAuthenticationMode = ieeE11iAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1195,6 +1264,7 @@ If this ''WLANConfiguration'' instance does not support 802.11i then this parame
 	 */
 	public WLANConfiguration withIeeE11iAuthenticationMode(String ieeE11iAuthenticationMode) {
 		this.ieeE11iAuthenticationMode = ieeE11iAuthenticationMode;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1213,6 +1283,21 @@ For example, for 802.11b and North America, would be "1-11".
 		return possibleChannels;
 	}
 
+	/**
+	 * Read the possible radio channels for the wireless standard (a, b or g) and the regulatory domain. 
+
+Ranges in the form "n-m" are permitted.
+
+For example, for 802.11b and North America, would be "1-11".
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleChannels() {
+		return possibleChannels == null ? Collections.emptyList() : possibleChannels;
+	}
+
 	/**
 	 * Set the possible radio channels for the wireless standard (a, b or g) and the regulatory domain. 
 
@@ -1225,6 +1310,7 @@ For example, for 802.11b and North America, would be "1-11".
 	 */
 	public void  setPossibleChannels(Collection<String> possibleChannels) {
 		this.possibleChannels = possibleChannels;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1240,6 +1326,7 @@ For example, for 802.11b and North America, would be "1-11".
 	 */
 	public WLANConfiguration withPossibleChannels(String string) {
 		getPossibleChannels().add(string);
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1256,6 +1343,19 @@ For example, a value of "1,2", indicates that unicast, multicast and broadcast f
 		return basicDataTransmitRates;
 	}
 
+	/**
+	 * Read the maximum access point data transmit rates in Mbps for unicast, multicast and broadcast frames.
+
+For example, a value of "1,2", indicates that unicast, multicast and broadcast frames can be transmitted at 1 Mbps and 2 Mbps.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBasicDataTransmitRates() {
+		return basicDataTransmitRates == null ? Collections.emptyList() : basicDataTransmitRates;
+	}
+
 	/**
 	 * Set the maximum access point data transmit rates in Mbps for unicast, multicast and broadcast frames.
 
@@ -1266,6 +1366,7 @@ For example, a value of "1,2", indicates that unicast, multicast and broadcast f
 	 */
 	public void  setBasicDataTransmitRates(Collection<String> basicDataTransmitRates) {
 		this.basicDataTransmitRates = basicDataTransmitRates;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1279,6 +1380,7 @@ For example, a value of "1,2", indicates that unicast, multicast and broadcast f
 	 */
 	public WLANConfiguration withBasicDataTransmitRates(String string) {
 		getBasicDataTransmitRates().add(string);
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1295,6 +1397,19 @@ Given the value of {{param|BasicDataTransmitRates}} from the example above, {{pa
 		return operationalDataTransmitRates;
 	}
 
+	/**
+	 * Read the maximum access point data transmit rates in Mbps for unicast frames (a superset of {{param|BasicDataTransmitRates}}).
+
+Given the value of {{param|BasicDataTransmitRates}} from the example above, {{param}} might be "1,2,5.5,11", indicating that unicast frames can additionally be transmitted at 5.5 Mbps and 11 Mbps.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOperationalDataTransmitRates() {
+		return operationalDataTransmitRates == null ? Collections.emptyList() : operationalDataTransmitRates;
+	}
+
 	/**
 	 * Set the maximum access point data transmit rates in Mbps for unicast frames (a superset of {{param|BasicDataTransmitRates}}).
 
@@ -1305,6 +1420,7 @@ Given the value of {{param|BasicDataTransmitRates}} from the example above, {{pa
 	 */
 	public void  setOperationalDataTransmitRates(Collection<String> operationalDataTransmitRates) {
 		this.operationalDataTransmitRates = operationalDataTransmitRates;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1318,6 +1434,7 @@ Given the value of {{param|BasicDataTransmitRates}} from the example above, {{pa
 	 */
 	public WLANConfiguration withOperationalDataTransmitRates(String string) {
 		getOperationalDataTransmitRates().add(string);
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1334,6 +1451,19 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 		return possibleDataTransmitRates;
 	}
 
+	/**
+	 * Read the data transmit rates for unicast frames at which the access point will permit a station to connect (a subset of {{param|OperationalDataTransmitRates}}).
+
+Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalDataTransmitRates}} from the examples above, {{param}} might be "1,2,5.5", indicating that the AP will only permit connections at 1 Mbps, 2 Mbps and 5.5 Mbps, even though it could theoretically accept connections at 11 Mbps.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleDataTransmitRates() {
+		return possibleDataTransmitRates == null ? Collections.emptyList() : possibleDataTransmitRates;
+	}
+
 	/**
 	 * Set the data transmit rates for unicast frames at which the access point will permit a station to connect (a subset of {{param|OperationalDataTransmitRates}}).
 
@@ -1344,6 +1474,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setPossibleDataTransmitRates(Collection<String> possibleDataTransmitRates) {
 		this.possibleDataTransmitRates = possibleDataTransmitRates;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1357,6 +1488,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withPossibleDataTransmitRates(String string) {
 		getPossibleDataTransmitRates().add(string);
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1378,6 +1510,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setInsecureOOBAccessEnabled(Boolean insecureOOBAccessEnabled) {
 		this.insecureOOBAccessEnabled = insecureOOBAccessEnabled;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1389,6 +1522,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withInsecureOOBAccessEnabled(Boolean insecureOOBAccessEnabled) {
 		this.insecureOOBAccessEnabled = insecureOOBAccessEnabled;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1410,6 +1544,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setBeaconAdvertisementEnabled(Boolean beaconAdvertisementEnabled) {
 		this.beaconAdvertisementEnabled = beaconAdvertisementEnabled;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1421,6 +1556,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withBeaconAdvertisementEnabled(Boolean beaconAdvertisementEnabled) {
 		this.beaconAdvertisementEnabled = beaconAdvertisementEnabled;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1442,6 +1578,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setRadioEnabled(Boolean radioEnabled) {
 		this.radioEnabled = radioEnabled;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1453,6 +1590,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withRadioEnabled(Boolean radioEnabled) {
 		this.radioEnabled = radioEnabled;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1474,6 +1612,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setAutoRateFallBackEnabled(Boolean autoRateFallBackEnabled) {
 		this.autoRateFallBackEnabled = autoRateFallBackEnabled;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1485,6 +1624,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withAutoRateFallBackEnabled(Boolean autoRateFallBackEnabled) {
 		this.autoRateFallBackEnabled = autoRateFallBackEnabled;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1506,6 +1646,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setLocationDescription(String locationDescription) {
 		this.locationDescription = locationDescription;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1517,6 +1658,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withLocationDescription(String locationDescription) {
 		this.locationDescription = locationDescription;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1538,6 +1680,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setRegulatoryDomain(String regulatoryDomain) {
 		this.regulatoryDomain = regulatoryDomain;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1549,6 +1692,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withRegulatoryDomain(String regulatoryDomain) {
 		this.regulatoryDomain = regulatoryDomain;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1570,6 +1714,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setTotalPSKFailures(Long totalPSKFailures) {
 		this.totalPSKFailures = totalPSKFailures;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1581,6 +1726,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withTotalPSKFailures(Long totalPSKFailures) {
 		this.totalPSKFailures = totalPSKFailures;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1602,6 +1748,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public void  setTotalIntegrityFailures(Long totalIntegrityFailures) {
 		this.totalIntegrityFailures = totalIntegrityFailures;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1613,6 +1760,7 @@ Given the values of {{param|BasicDataTransmitRates}} and {{param|OperationalData
 	 */
 	public WLANConfiguration withTotalIntegrityFailures(Long totalIntegrityFailures) {
 		this.totalIntegrityFailures = totalIntegrityFailures;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1629,6 +1777,19 @@ Ranges in the form "n-m" are permitted.
 		return channelsInUse;
 	}
 
+	/**
+	 * Read the channels that the access point determines to be currently in use (including any that it is using itself).
+
+Ranges in the form "n-m" are permitted.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewChannelsInUse() {
+		return channelsInUse == null ? Collections.emptyList() : channelsInUse;
+	}
+
 	/**
 	 * Set the channels that the access point determines to be currently in use (including any that it is using itself).
 
@@ -1639,6 +1800,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setChannelsInUse(Collection<String> channelsInUse) {
 		this.channelsInUse = channelsInUse;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1652,6 +1814,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withChannelsInUse(String string) {
 		getChannelsInUse().add(string);
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1673,6 +1836,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setDeviceOperationMode(String deviceOperationMode) {
 		this.deviceOperationMode = deviceOperationMode;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1684,6 +1848,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withDeviceOperationMode(String deviceOperationMode) {
 		this.deviceOperationMode = deviceOperationMode;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1705,6 +1870,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setDistanceFromRoot(Long distanceFromRoot) {
 		this.distanceFromRoot = distanceFromRoot;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1716,6 +1882,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withDistanceFromRoot(Long distanceFromRoot) {
 		this.distanceFromRoot = distanceFromRoot;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1737,6 +1904,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setPeerBSSID(String peerBSSID) {
 		this.peerBSSID = peerBSSID;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -1748,6 +1916,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withPeerBSSID(String peerBSSID) {
 		this.peerBSSID = peerBSSID;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -1769,6 +1938,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setAuthenticationServiceMode(String authenticationServiceMode) {
 		this.authenticationServiceMode = authenticationServiceMode;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -1780,6 +1950,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withAuthenticationServiceMode(String authenticationServiceMode) {
 		this.authenticationServiceMode = authenticationServiceMode;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -1801,6 +1972,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -1812,6 +1984,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -1833,6 +2006,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -1844,6 +2018,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -1865,6 +2040,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -1876,6 +2052,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -1897,6 +2074,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -1908,6 +2086,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -1929,6 +2108,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public void  setTotalAssociations(Long totalAssociations) {
 		this.totalAssociations = totalAssociations;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -1940,6 +2120,7 @@ Ranges in the form "n-m" are permitted.
 	 */
 	public WLANConfiguration withTotalAssociations(Long totalAssociations) {
 		this.totalAssociations = totalAssociations;
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -1949,10 +2130,20 @@ Ranges in the form "n-m" are permitted.
 	 * @return the value
 	 */
 	public Collection<AssociatedDevice> getAssociatedDevices() {
-		if (this.associatedDevices == null){ this.associatedDevices=new ArrayList<>();}
+		if (!(this.associatedDevices instanceof InstanceTable)){ this.associatedDevices=InstanceTable.of(this.associatedDevices);}
 		return associatedDevices;
 	}
 
+	/**
+	 * Get a table of the devices currently associated with the access point.  The size of this table is given by {{param|InternetGatewayDevice.LANDevice.{i}.WLANConfiguration.{i}.TotalAssociations}}.  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AssociatedDevice> viewAssociatedDevices() {
+		return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+	}
+
 	/**
 	 * Set a table of the devices currently associated with the access point.  The size of this table is given by {{param|InternetGatewayDevice.LANDevice.{i}.WLANConfiguration.{i}.TotalAssociations}}.  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
 	 *
@@ -1979,10 +2170,20 @@ Ranges in the form "n-m" are permitted.
 	 * @return the value
 	 */
 	public Collection<WEPKey> getWepKeies() {
-		if (this.wepKeies == null){ this.wepKeies=new ArrayList<>();}
+		if (!(this.wepKeies instanceof InstanceTable)){ this.wepKeies=InstanceTable.of(this.wepKeies);}
 		return wepKeies;
 	}
 
+	/**
+	 * Read the this is a table of WEP keys.  The size of this table is fixed with exactly 4 entries (with instance numbers 1 through 4).  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<WEPKey> viewWepKeies() {
+		return wepKeies == null ? Collections.emptyList() : wepKeies;
+	}
+
 	/**
 	 * Set the this is a table of WEP keys.  The size of this table is fixed with exactly 4 entries (with instance numbers 1 through 4).  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
 	 *
@@ -2009,10 +2210,20 @@ Ranges in the form "n-m" are permitted.
 	 * @return the value
 	 */
 	public Collection<PreSharedKey> getPreSharedKeies() {
-		if (this.preSharedKeies == null){ this.preSharedKeies=new ArrayList<>();}
+		if (!(this.preSharedKeies instanceof InstanceTable)){ this.preSharedKeies=InstanceTable.of(this.preSharedKeies);}
 		return preSharedKeies;
 	}
 
+	/**
+	 * Read the this is a table of preshared keys.  The size of this table is fixed with exactly 10 entries (with instance numbers 1 through 10).  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PreSharedKey> viewPreSharedKeies() {
+		return preSharedKeies == null ? Collections.emptyList() : preSharedKeies;
+	}
+
 	/**
 	 * Set the this is a table of preshared keys.  The size of this table is fixed with exactly 10 entries (with instance numbers 1 through 10).  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
 	 *
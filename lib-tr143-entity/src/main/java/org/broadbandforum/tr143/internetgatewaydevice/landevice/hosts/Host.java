@@ -24,7 +24,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -93,6 +95,16 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	@XmlElement(name = "Active")
 	public Boolean active;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Host() {
 	}
 
@@ -115,6 +127,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public void  setIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -126,6 +139,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public Host withIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -147,6 +161,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public void  setAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -158,6 +173,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public Host withAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -179,6 +195,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public void  setLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +207,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public Host withLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +229,8 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -222,6 +242,8 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public Host withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -243,6 +265,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public void  setHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -254,6 +277,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public Host withHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -275,6 +299,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public void  setInterfaceType(String interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -286,6 +311,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public Host withInterfaceType(String interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -311,6 +337,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -324,6 +351,7 @@ The ability to list inactive hosts is OPTIONAL.  If the CPE includes inactive ho
 	 */
 	public Host withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -23,7 +23,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * IP interface table.
@@ -69,6 +71,16 @@ public class IPInterface {
 	@CWMPParameter(access = "readWrite")
 	public String ipinterfaceAddressingType;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPInterface() {
 	}
 
@@ -91,6 +103,7 @@ public class IPInterface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -102,6 +115,7 @@ public class IPInterface {
 	 */
 	public IPInterface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -123,6 +137,8 @@ public class IPInterface {
 	 */
 	public void  setIpinterfaceIPAddress(IPAddress ipinterfaceIPAddress) {
 		this.ipinterfaceIPAddress = ipinterfaceIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -134,6 +150,8 @@ public class IPInterface {
 	 */
 	public IPInterface withIpinterfaceIPAddress(IPAddress ipinterfaceIPAddress) {
 		this.ipinterfaceIPAddress = ipinterfaceIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -155,6 +173,8 @@ public class IPInterface {
 	 */
 	public void  setIpinterfaceSubnetMask(IPAddress ipinterfaceSubnetMask) {
 		this.ipinterfaceSubnetMask = ipinterfaceSubnetMask;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -166,6 +186,8 @@ public class IPInterface {
 	 */
 	public IPInterface withIpinterfaceSubnetMask(IPAddress ipinterfaceSubnetMask) {
 		this.ipinterfaceSubnetMask = ipinterfaceSubnetMask;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -187,6 +209,7 @@ public class IPInterface {
 	 */
 	public void  setIpinterfaceAddressingType(String ipinterfaceAddressingType) {
 		this.ipinterfaceAddressingType = ipinterfaceAddressingType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -198,6 +221,7 @@ public class IPInterface {
 	 */
 	public IPInterface withIpinterfaceAddressingType(String ipinterfaceAddressingType) {
 		this.ipinterfaceAddressingType = ipinterfaceAddressingType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains statistics for a USB LAN interface on a CPE device.
@@ -67,6 +68,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long cellsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -89,6 +95,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +107,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +141,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -153,6 +163,7 @@ public class Stats {
 	 */
 	public void  setCellsSent(Long cellsSent) {
 		this.cellsSent = cellsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -164,6 +175,7 @@ public class Stats {
 	 */
 	public Stats withCellsSent(Long cellsSent) {
 		this.cellsSent = cellsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,6 +197,7 @@ public class Stats {
 	 */
 	public void  setCellsReceived(Long cellsReceived) {
 		this.cellsReceived = cellsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -196,6 +209,7 @@ public class Stats {
 	 */
 	public Stats withCellsReceived(Long cellsReceived) {
 		this.cellsReceived = cellsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
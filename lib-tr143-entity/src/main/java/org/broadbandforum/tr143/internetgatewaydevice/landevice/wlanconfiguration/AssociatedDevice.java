@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -90,6 +92,16 @@ public class AssociatedDevice {
 	@Size(max = 256)
 	public String lastPMKId;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -112,6 +124,8 @@ public class AssociatedDevice {
 	 */
 	public void  setAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -123,6 +137,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -144,6 +160,7 @@ public class AssociatedDevice {
 	 */
 	public void  setAssociatedDeviceIPAddress(String associatedDeviceIPAddress) {
 		this.associatedDeviceIPAddress = associatedDeviceIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -155,6 +172,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAssociatedDeviceIPAddress(String associatedDeviceIPAddress) {
 		this.associatedDeviceIPAddress = associatedDeviceIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -176,6 +194,7 @@ public class AssociatedDevice {
 	 */
 	public void  setAssociatedDeviceAuthenticationState(Boolean associatedDeviceAuthenticationState) {
 		this.associatedDeviceAuthenticationState = associatedDeviceAuthenticationState;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -187,6 +206,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAssociatedDeviceAuthenticationState(Boolean associatedDeviceAuthenticationState) {
 		this.associatedDeviceAuthenticationState = associatedDeviceAuthenticationState;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -208,6 +228,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastRequestedUnicastCipher(String lastRequestedUnicastCipher) {
 		this.lastRequestedUnicastCipher = lastRequestedUnicastCipher;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -219,6 +240,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastRequestedUnicastCipher(String lastRequestedUnicastCipher) {
 		this.lastRequestedUnicastCipher = lastRequestedUnicastCipher;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -240,6 +262,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastRequestedMulticastCipher(String lastRequestedMulticastCipher) {
 		this.lastRequestedMulticastCipher = lastRequestedMulticastCipher;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -251,6 +274,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastRequestedMulticastCipher(String lastRequestedMulticastCipher) {
 		this.lastRequestedMulticastCipher = lastRequestedMulticastCipher;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -272,6 +296,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastPMKId(String lastPMKId) {
 		this.lastPMKId = lastPMKId;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -283,6 +308,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastPMKId(String lastPMKId) {
 		this.lastPMKId = lastPMKId;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
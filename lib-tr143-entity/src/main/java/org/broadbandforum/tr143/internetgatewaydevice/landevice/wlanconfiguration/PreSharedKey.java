@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -73,6 +74,11 @@ The key is generated as specified by WPA, which uses PBKDF2 from PKCS #5: Passwo
 	@CWMPParameter(access = "readWrite")
 	public MACAddress associatedDeviceMACAddress;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PreSharedKey() {
 	}
 
@@ -103,6 +109,7 @@ If {{param|KeyPassphrase}} is written, the PSK is immediately generated.  The AC
 	 */
 	public void  setPreSharedKey(String preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +125,7 @@ If {{param|KeyPassphrase}} is written, the PSK is immediately generated.  The AC
 	 */
 	public PreSharedKey withPreSharedKey(String preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -151,6 +159,7 @@ The key is generated as specified by WPA, which uses PBKDF2 from PKCS #5: Passwo
 	 */
 	public void  setKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -168,6 +177,7 @@ The key is generated as specified by WPA, which uses PBKDF2 from PKCS #5: Passwo
 	 */
 	public PreSharedKey withKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -189,6 +199,7 @@ The key is generated as specified by WPA, which uses PBKDF2 from PKCS #5: Passwo
 	 */
 	public void  setAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -200,6 +211,7 @@ The key is generated as specified by WPA, which uses PBKDF2 from PKCS #5: Passwo
 	 */
 	public PreSharedKey withAssociatedDeviceMACAddress(MACAddress associatedDeviceMACAddress) {
 		this.associatedDeviceMACAddress = associatedDeviceMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This is a table of WEP keys.  The size of this table is fixed with exactly 4 entries (with instance numbers 1 through 4).  This object MUST be implemented for CPE that contain an 802.11 interface on the LAN side.
@@ -49,6 +50,11 @@ If {{param|InternetGatewayDevice.LANDevice.{i}.WLANConfiguration.{i}.KeyPassphra
 	@Size(max = 128)
 	public String wepKey;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WEPKey() {
 	}
 
@@ -79,6 +85,7 @@ If {{param|InternetGatewayDevice.LANDevice.{i}.WLANConfiguration.{i}.KeyPassphra
 	 */
 	public void  setWepKey(String wepKey) {
 		this.wepKey = wepKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -94,6 +101,7 @@ If {{param|InternetGatewayDevice.LANDevice.{i}.WLANConfiguration.{i}.KeyPassphra
 	 */
 	public WEPKey withWepKey(String wepKey) {
 		this.wepKey = wepKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing all LAN and WAN interfaces that are available to be referenced by the ''Bridge'' table.  Only interfaces that can carry layer-2 bridged traffic are included.
@@ -70,6 +72,16 @@ For a LAN-side connection to the Gateway's IP router, this parameter is the full
 	@Size(max = 256)
 	public String interfaceReference;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AvailableInterface() {
 	}
 
@@ -92,6 +104,8 @@ For a LAN-side connection to the Gateway's IP router, this parameter is the full
 	 */
 	public void  setAvailableInterfaceKey(Long availableInterfaceKey) {
 		this.availableInterfaceKey = availableInterfaceKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -103,6 +117,8 @@ For a LAN-side connection to the Gateway's IP router, this parameter is the full
 	 */
 	public AvailableInterface withAvailableInterfaceKey(Long availableInterfaceKey) {
 		this.availableInterfaceKey = availableInterfaceKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -124,6 +140,7 @@ For a LAN-side connection to the Gateway's IP router, this parameter is the full
 	 */
 	public void  setInterfaceType(String interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -135,6 +152,7 @@ For a LAN-side connection to the Gateway's IP router, this parameter is the full
 	 */
 	public AvailableInterface withInterfaceType(String interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -172,6 +190,7 @@ For a LAN-side connection to the Gateway's IP router, this parameter is the full
 	 */
 	public void  setInterfaceReference(String interfaceReference) {
 		this.interfaceReference = interfaceReference;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -191,6 +210,7 @@ For a LAN-side connection to the Gateway's IP router, this parameter is the full
 	 */
 	public AvailableInterface withInterfaceReference(String interfaceReference) {
 		this.interfaceReference = interfaceReference;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Bridge table.
@@ -81,6 +83,16 @@ A value of 0 indicates either Untagged or PriorityOnly tagging, which are treate
 	@Size(min = 0, max = 4094)
 	public Long vlaNID = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Bridge() {
 	}
 
@@ -103,6 +115,8 @@ A value of 0 indicates either Untagged or PriorityOnly tagging, which are treate
 	 */
 	public void  setBridgeKey(Long bridgeKey) {
 		this.bridgeKey = bridgeKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -114,6 +128,8 @@ A value of 0 indicates either Untagged or PriorityOnly tagging, which are treate
 	 */
 	public Bridge withBridgeKey(Long bridgeKey) {
 		this.bridgeKey = bridgeKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -135,6 +151,7 @@ A value of 0 indicates either Untagged or PriorityOnly tagging, which are treate
 	 */
 	public void  setBridgeEnable(Boolean bridgeEnable) {
 		this.bridgeEnable = bridgeEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -146,6 +163,7 @@ A value of 0 indicates either Untagged or PriorityOnly tagging, which are treate
 	 */
 	public Bridge withBridgeEnable(Boolean bridgeEnable) {
 		this.bridgeEnable = bridgeEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -171,6 +189,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setBridgeStatus(String bridgeStatus) {
 		this.bridgeStatus = bridgeStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -184,6 +203,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Bridge withBridgeStatus(String bridgeStatus) {
 		this.bridgeStatus = bridgeStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -205,6 +225,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setBridgeName(String bridgeName) {
 		this.bridgeName = bridgeName;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -216,6 +237,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Bridge withBridgeName(String bridgeName) {
 		this.bridgeName = bridgeName;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -241,6 +263,7 @@ A value of 0 indicates either Untagged or PriorityOnly tagging, which are treate
 	 */
 	public void  setVlaNID(Long vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -254,6 +277,7 @@ A value of 0 indicates either Untagged or PriorityOnly tagging, which are treate
 	 */
 	public Bridge withVlaNID(Long vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice.layer2bridging;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Filter table containing filter entries each of which is associated with one Bridge as specified by a ''Bridge'' table entry.
@@ -312,6 +315,16 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	@CWMPParameter(access = "readWrite")
 	public Boolean destMACFromUserClassIDFilterExclude;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Filter() {
 	}
 
@@ -334,6 +347,8 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setFilterKey(Long filterKey) {
 		this.filterKey = filterKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -345,6 +360,8 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withFilterKey(Long filterKey) {
 		this.filterKey = filterKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -366,6 +383,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setFilterEnable(Boolean filterEnable) {
 		this.filterEnable = filterEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -377,6 +395,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withFilterEnable(Boolean filterEnable) {
 		this.filterEnable = filterEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -402,6 +421,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setFilterStatus(String filterStatus) {
 		this.filterStatus = filterStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -415,6 +435,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Filter withFilterStatus(String filterStatus) {
 		this.filterStatus = filterStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -436,6 +457,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setFilterBridgeReference(Integer filterBridgeReference) {
 		this.filterBridgeReference = filterBridgeReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -447,6 +469,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Filter withFilterBridgeReference(Integer filterBridgeReference) {
 		this.filterBridgeReference = filterBridgeReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -496,6 +519,7 @@ Note that the use of Exclusive Filters to associate a layer-3 router interface w
 	 */
 	public void  setExclusivityOrder(Long exclusivityOrder) {
 		this.exclusivityOrder = exclusivityOrder;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -521,6 +545,7 @@ Note that the use of Exclusive Filters to associate a layer-3 router interface w
 	 */
 	public Filter withExclusivityOrder(Long exclusivityOrder) {
 		this.exclusivityOrder = exclusivityOrder;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -562,6 +587,7 @@ To associate this Filter with a single interface listed in the AvailableInterfac
 	 */
 	public void  setFilterInterface(String filterInterface) {
 		this.filterInterface = filterInterface;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -583,6 +609,7 @@ To associate this Filter with a single interface listed in the AvailableInterfac
 	 */
 	public Filter withFilterInterface(String filterInterface) {
 		this.filterInterface = filterInterface;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -608,6 +635,7 @@ A value of -1 indicates that the default VLAN ID for the Bridge SHOULD be used i
 	 */
 	public void  setVlaNIDFilter(Integer vlaNIDFilter) {
 		this.vlaNIDFilter = vlaNIDFilter;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -621,6 +649,7 @@ A value of -1 indicates that the default VLAN ID for the Bridge SHOULD be used i
 	 */
 	public Filter withVlaNIDFilter(Integer vlaNIDFilter) {
 		this.vlaNIDFilter = vlaNIDFilter;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -650,6 +679,7 @@ If the {{param|VLANIDFilter}} parameter (or instead, the VLAN ID for the Bridge
 	 */
 	public void  setAdmitOnlyVLANTagged(Boolean admitOnlyVLANTagged) {
 		this.admitOnlyVLANTagged = admitOnlyVLANTagged;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -665,6 +695,7 @@ If the {{param|VLANIDFilter}} parameter (or instead, the VLAN ID for the Bridge
 	 */
 	public Filter withAdmitOnlyVLANTagged(Boolean admitOnlyVLANTagged) {
 		this.admitOnlyVLANTagged = admitOnlyVLANTagged;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -686,6 +717,7 @@ If the {{param|VLANIDFilter}} parameter (or instead, the VLAN ID for the Bridge
 	 */
 	public void  setEthertypeFilterList(Long ethertypeFilterList) {
 		this.ethertypeFilterList = ethertypeFilterList;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -697,6 +729,7 @@ If the {{param|VLANIDFilter}} parameter (or instead, the VLAN ID for the Bridge
 	 */
 	public Filter withEthertypeFilterList(Long ethertypeFilterList) {
 		this.ethertypeFilterList = ethertypeFilterList;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -722,6 +755,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setEthertypeFilterExclude(Boolean ethertypeFilterExclude) {
 		this.ethertypeFilterExclude = ethertypeFilterExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -735,6 +769,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withEthertypeFilterExclude(Boolean ethertypeFilterExclude) {
 		this.ethertypeFilterExclude = ethertypeFilterExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -751,6 +786,19 @@ For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:0
 		return sourceMACAddressFilterList;
 	}
 
+	/**
+	 * Read the each list entry MAY optionally specify a bit-mask, where matching of a packet's MAC address is only to be done for bit positions set to one in the mask.  If no mask is specified, all bits of the MAC Address are to be used for matching.
+
+For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:00:00:00, 88:77:66:55:44:33''
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSourceMACAddressFilterList() {
+		return sourceMACAddressFilterList == null ? Collections.emptyList() : sourceMACAddressFilterList;
+	}
+
 	/**
 	 * Set the each list entry MAY optionally specify a bit-mask, where matching of a packet's MAC address is only to be done for bit positions set to one in the mask.  If no mask is specified, all bits of the MAC Address are to be used for matching.
 
@@ -761,6 +809,7 @@ For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:0
 	 */
 	public void  setSourceMACAddressFilterList(Collection<String> sourceMACAddressFilterList) {
 		this.sourceMACAddressFilterList = sourceMACAddressFilterList;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -774,6 +823,7 @@ For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:0
 	 */
 	public Filter withSourceMACAddressFilterList(String string) {
 		getSourceMACAddressFilterList().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -799,6 +849,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setSourceMACAddressFilterExclude(Boolean sourceMACAddressFilterExclude) {
 		this.sourceMACAddressFilterExclude = sourceMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -812,6 +863,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withSourceMACAddressFilterExclude(Boolean sourceMACAddressFilterExclude) {
 		this.sourceMACAddressFilterExclude = sourceMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -828,6 +880,19 @@ For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:0
 		return destMACAddressFilterList;
 	}
 
+	/**
+	 * Read the each list entry MAY optionally specify a bit-mask, where matching of a packet's MAC address is only to be done for bit positions set to one in the mask.  If no mask is specified, all bits of the MAC Address are to be used for matching.
+
+For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:00:00:00, 88:77:66:55:44:33''
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDestMACAddressFilterList() {
+		return destMACAddressFilterList == null ? Collections.emptyList() : destMACAddressFilterList;
+	}
+
 	/**
 	 * Set the each list entry MAY optionally specify a bit-mask, where matching of a packet's MAC address is only to be done for bit positions set to one in the mask.  If no mask is specified, all bits of the MAC Address are to be used for matching.
 
@@ -838,6 +903,7 @@ For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:0
 	 */
 	public void  setDestMACAddressFilterList(Collection<String> destMACAddressFilterList) {
 		this.destMACAddressFilterList = destMACAddressFilterList;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -851,6 +917,7 @@ For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:0
 	 */
 	public Filter withDestMACAddressFilterList(String string) {
 		getDestMACAddressFilterList().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -876,6 +943,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setDestMACAddressFilterExclude(Boolean destMACAddressFilterExclude) {
 		this.destMACAddressFilterExclude = destMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -889,6 +957,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withDestMACAddressFilterExclude(Boolean destMACAddressFilterExclude) {
 		this.destMACAddressFilterExclude = destMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -910,6 +979,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setSourceMACFromVendorClassIDFilter(String sourceMACFromVendorClassIDFilter) {
 		this.sourceMACFromVendorClassIDFilter = sourceMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -921,6 +991,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withSourceMACFromVendorClassIDFilter(String sourceMACFromVendorClassIDFilter) {
 		this.sourceMACFromVendorClassIDFilter = sourceMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -946,6 +1017,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setSourceMACFromVendorClassIDFilterExclude(Boolean sourceMACFromVendorClassIDFilterExclude) {
 		this.sourceMACFromVendorClassIDFilterExclude = sourceMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -959,6 +1031,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withSourceMACFromVendorClassIDFilterExclude(Boolean sourceMACFromVendorClassIDFilterExclude) {
 		this.sourceMACFromVendorClassIDFilterExclude = sourceMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -980,6 +1053,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setDestMACFromVendorClassIDFilter(String destMACFromVendorClassIDFilter) {
 		this.destMACFromVendorClassIDFilter = destMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -991,6 +1065,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withDestMACFromVendorClassIDFilter(String destMACFromVendorClassIDFilter) {
 		this.destMACFromVendorClassIDFilter = destMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1016,6 +1091,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setDestMACFromVendorClassIDFilterExclude(Boolean destMACFromVendorClassIDFilterExclude) {
 		this.destMACFromVendorClassIDFilterExclude = destMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1029,6 +1105,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withDestMACFromVendorClassIDFilterExclude(Boolean destMACFromVendorClassIDFilterExclude) {
 		this.destMACFromVendorClassIDFilterExclude = destMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1050,6 +1127,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setSourceMACFromClientIDFilter(String sourceMACFromClientIDFilter) {
 		this.sourceMACFromClientIDFilter = sourceMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1061,6 +1139,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withSourceMACFromClientIDFilter(String sourceMACFromClientIDFilter) {
 		this.sourceMACFromClientIDFilter = sourceMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1086,6 +1165,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setSourceMACFromClientIDFilterExclude(Boolean sourceMACFromClientIDFilterExclude) {
 		this.sourceMACFromClientIDFilterExclude = sourceMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1099,6 +1179,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withSourceMACFromClientIDFilterExclude(Boolean sourceMACFromClientIDFilterExclude) {
 		this.sourceMACFromClientIDFilterExclude = sourceMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1120,6 +1201,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setDestMACFromClientIDFilter(String destMACFromClientIDFilter) {
 		this.destMACFromClientIDFilter = destMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1131,6 +1213,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withDestMACFromClientIDFilter(String destMACFromClientIDFilter) {
 		this.destMACFromClientIDFilter = destMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1156,6 +1239,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setDestMACFromClientIDFilterExclude(Boolean destMACFromClientIDFilterExclude) {
 		this.destMACFromClientIDFilterExclude = destMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1169,6 +1253,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withDestMACFromClientIDFilterExclude(Boolean destMACFromClientIDFilterExclude) {
 		this.destMACFromClientIDFilterExclude = destMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1190,6 +1275,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setSourceMACFromUserClassIDFilter(String sourceMACFromUserClassIDFilter) {
 		this.sourceMACFromUserClassIDFilter = sourceMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1201,6 +1287,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withSourceMACFromUserClassIDFilter(String sourceMACFromUserClassIDFilter) {
 		this.sourceMACFromUserClassIDFilter = sourceMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1226,6 +1313,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setSourceMACFromUserClassIDFilterExclude(Boolean sourceMACFromUserClassIDFilterExclude) {
 		this.sourceMACFromUserClassIDFilterExclude = sourceMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1239,6 +1327,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withSourceMACFromUserClassIDFilterExclude(Boolean sourceMACFromUserClassIDFilterExclude) {
 		this.sourceMACFromUserClassIDFilterExclude = sourceMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1260,6 +1349,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setDestMACFromUserClassIDFilter(String destMACFromUserClassIDFilter) {
 		this.destMACFromUserClassIDFilter = destMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1271,6 +1361,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withDestMACFromUserClassIDFilter(String destMACFromUserClassIDFilter) {
 		this.destMACFromUserClassIDFilter = destMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1296,6 +1387,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public void  setDestMACFromUserClassIDFilterExclude(Boolean destMACFromUserClassIDFilterExclude) {
 		this.destMACFromUserClassIDFilterExclude = destMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1309,6 +1401,7 @@ If {{true}}, on ingress to the interfaces associated with this Filter, the Bridg
 	 */
 	public Filter withDestMACFromUserClassIDFilterExclude(Boolean destMACFromUserClassIDFilterExclude) {
 		this.destMACFromUserClassIDFilterExclude = destMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Marking table identifying non-default layer-2 marking behavior for packets on egress from the specified interfaces.
@@ -136,6 +138,16 @@ If {{param|VLANIDUntag}} is {{true}}, then no priority marking is done since the
 	@CWMPParameter(access = "readWrite")
 	public Boolean ethernetPriorityOverride;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Marking() {
 	}
 
@@ -158,6 +170,8 @@ If {{param|VLANIDUntag}} is {{true}}, then no priority marking is done since the
 	 */
 	public void  setMarkingKey(Long markingKey) {
 		this.markingKey = markingKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +183,8 @@ If {{param|VLANIDUntag}} is {{true}}, then no priority marking is done since the
 	 */
 	public Marking withMarkingKey(Long markingKey) {
 		this.markingKey = markingKey;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -190,6 +206,7 @@ If {{param|VLANIDUntag}} is {{true}}, then no priority marking is done since the
 	 */
 	public void  setMarkingEnable(Boolean markingEnable) {
 		this.markingEnable = markingEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -201,6 +218,7 @@ If {{param|VLANIDUntag}} is {{true}}, then no priority marking is done since the
 	 */
 	public Marking withMarkingEnable(Boolean markingEnable) {
 		this.markingEnable = markingEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -226,6 +244,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setMarkingStatus(String markingStatus) {
 		this.markingStatus = markingStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -239,6 +258,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Marking withMarkingStatus(String markingStatus) {
 		this.markingStatus = markingStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -264,6 +284,7 @@ The effect of a Marking table entry applies only to packets that have been admit
 	 */
 	public void  setMarkingBridgeReference(Integer markingBridgeReference) {
 		this.markingBridgeReference = markingBridgeReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -277,6 +298,7 @@ The effect of a Marking table entry applies only to packets that have been admit
 	 */
 	public Marking withMarkingBridgeReference(Integer markingBridgeReference) {
 		this.markingBridgeReference = markingBridgeReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -326,6 +348,7 @@ If an interface in a given bridge does not have a corresponding Marking table en
 	 */
 	public void  setMarkingInterface(String markingInterface) {
 		this.markingInterface = markingInterface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -351,6 +374,7 @@ If an interface in a given bridge does not have a corresponding Marking table en
 	 */
 	public Marking withMarkingInterface(String markingInterface) {
 		this.markingInterface = markingInterface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -376,6 +400,7 @@ If {{false}}, on egress to the interfaces associated with this Marking table ent
 	 */
 	public void  setVlaNIDUntag(Boolean vlaNIDUntag) {
 		this.vlaNIDUntag = vlaNIDUntag;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -389,6 +414,7 @@ If {{false}}, on egress to the interfaces associated with this Marking table ent
 	 */
 	public Marking withVlaNIDUntag(Boolean vlaNIDUntag) {
 		this.vlaNIDUntag = vlaNIDUntag;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -414,6 +440,7 @@ A value of -1 indicates that the default VLAN ID for the Bridge SHOULD be used i
 	 */
 	public void  setVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -427,6 +454,7 @@ A value of -1 indicates that the default VLAN ID for the Bridge SHOULD be used i
 	 */
 	public Marking withVlaNIDMark(Integer vlaNIDMark) {
 		this.vlaNIDMark = vlaNIDMark;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -448,6 +476,7 @@ A value of -1 indicates that the default VLAN ID for the Bridge SHOULD be used i
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -459,6 +488,7 @@ A value of -1 indicates that the default VLAN ID for the Bridge SHOULD be used i
 	 */
 	public Marking withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -488,6 +518,7 @@ If {{param|VLANIDUntag}} is {{true}}, then no priority marking is done since the
 	 */
 	public void  setEthernetPriorityOverride(Boolean ethernetPriorityOverride) {
 		this.ethernetPriorityOverride = ethernetPriorityOverride;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -503,6 +534,7 @@ If {{param|VLANIDUntag}} is {{true}}, then no priority marking is done since the
 	 */
 	public Marking withEthernetPriorityOverride(Boolean ethernetPriorityOverride) {
 		this.ethernetPriorityOverride = ethernetPriorityOverride;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
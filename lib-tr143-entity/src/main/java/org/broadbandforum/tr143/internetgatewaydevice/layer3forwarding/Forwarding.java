@@ -24,7 +24,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Layer-3 forwarding table.
@@ -175,6 +177,16 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	@Size(min = 1, max = 1540)
 	public Long mtu;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Forwarding() {
 	}
 
@@ -197,6 +209,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -208,6 +221,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public Forwarding withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -233,6 +247,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -246,6 +261,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Forwarding withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -271,6 +287,7 @@ This parameter is DEPRECATED because its value could conflict with {{param|DestI
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -284,6 +301,7 @@ This parameter is DEPRECATED because its value could conflict with {{param|DestI
 	 */
 	public Forwarding withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -309,6 +327,8 @@ A Forwarding table entry for which {{param}} and {{param|DestSubnetMask}} are bo
 	 */
 	public void  setDestIPAddress(IPAddress destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -322,6 +342,8 @@ A Forwarding table entry for which {{param}} and {{param|DestSubnetMask}} are bo
 	 */
 	public Forwarding withDestIPAddress(IPAddress destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -351,6 +373,8 @@ A Forwarding table entry for which {{param|DestIPAddress}} and {{param}} are bot
 	 */
 	public void  setDestSubnetMask(IPAddress destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -366,6 +390,8 @@ A Forwarding table entry for which {{param|DestIPAddress}} and {{param}} are bot
 	 */
 	public Forwarding withDestSubnetMask(IPAddress destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -387,6 +413,8 @@ A Forwarding table entry for which {{param|DestIPAddress}} and {{param}} are bot
 	 */
 	public void  setSourceIPAddress(IPAddress sourceIPAddress) {
 		this.sourceIPAddress = sourceIPAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -398,6 +426,8 @@ A Forwarding table entry for which {{param|DestIPAddress}} and {{param}} are bot
 	 */
 	public Forwarding withSourceIPAddress(IPAddress sourceIPAddress) {
 		this.sourceIPAddress = sourceIPAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -423,6 +453,8 @@ If a source subnet mask is specified, the {{param}} is ANDed with the source add
 	 */
 	public void  setSourceSubnetMask(IPAddress sourceSubnetMask) {
 		this.sourceSubnetMask = sourceSubnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -436,6 +468,8 @@ If a source subnet mask is specified, the {{param}} is ANDed with the source add
 	 */
 	public Forwarding withSourceSubnetMask(IPAddress sourceSubnetMask) {
 		this.sourceSubnetMask = sourceSubnetMask;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -465,6 +499,7 @@ If specified, this forwarding entry is to apply only to traffic associated with
 	 */
 	public void  setForwardingPolicy(Integer forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -480,6 +515,7 @@ If specified, this forwarding entry is to apply only to traffic associated with
 	 */
 	public Forwarding withForwardingPolicy(Integer forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -509,6 +545,7 @@ If both are configured, {{param}} and {{param|Interface}} MUST be self-consisten
 	 */
 	public void  setGatewayIPAddress(IPAddress gatewayIPAddress) {
 		this.gatewayIPAddress = gatewayIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -524,6 +561,7 @@ If both are configured, {{param}} and {{param|Interface}} MUST be self-consisten
 	 */
 	public Forwarding withGatewayIPAddress(IPAddress gatewayIPAddress) {
 		this.gatewayIPAddress = gatewayIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -557,6 +595,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -574,6 +613,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public Forwarding with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -595,6 +635,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public void  setForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -606,6 +647,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public Forwarding withForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -627,6 +669,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public void  setMtu(Long mtu) {
 		this.mtu = mtu;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -638,6 +681,7 @@ For a route that was configured by setting {{param|GatewayIPAddress}} but not {{
 	 */
 	public Forwarding withMtu(Long mtu) {
 		this.mtu = mtu;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table corresponds to a distinct LAN Device that supports Device-Gateway Association according to {{bibref|TR-069a1|Annex F}} as indicated by the presence of the DHCP option specified in that Annex.
@@ -66,6 +68,16 @@ If the Device does not provide a Product Class, then this parameter MUST be {{em
 	@Size(max = 64)
 	public String productClass;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ManageableDevice() {
 	}
 
@@ -88,6 +100,8 @@ If the Device does not provide a Product Class, then this parameter MUST be {{em
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -99,6 +113,8 @@ If the Device does not provide a Product Class, then this parameter MUST be {{em
 	 */
 	public ManageableDevice withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -120,6 +136,8 @@ If the Device does not provide a Product Class, then this parameter MUST be {{em
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -131,6 +149,8 @@ If the Device does not provide a Product Class, then this parameter MUST be {{em
 	 */
 	public ManageableDevice withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -156,6 +176,8 @@ If the Device does not provide a Product Class, then this parameter MUST be {{em
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +191,8 @@ If the Device does not provide a Product Class, then this parameter MUST be {{em
 	 */
 	public ManageableDevice withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
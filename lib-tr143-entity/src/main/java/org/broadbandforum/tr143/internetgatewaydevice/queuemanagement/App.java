@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Application table.
@@ -136,6 +137,11 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	@Size(min = -2)
 	public Integer appDefaultEthernetPriorityMark;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public App() {
 	}
 
@@ -162,6 +168,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setAppKey(Long appKey) {
 		this.appKey = appKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -175,6 +182,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public App withAppKey(Long appKey) {
 		this.appKey = appKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -196,6 +204,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setAppEnable(Boolean appEnable) {
 		this.appEnable = appEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -207,6 +216,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public App withAppEnable(Boolean appEnable) {
 		this.appEnable = appEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -232,6 +242,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAppStatus(String appStatus) {
 		this.appStatus = appStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -245,6 +256,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public App withAppStatus(String appStatus) {
 		this.appStatus = appStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -266,6 +278,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setProtocolIdentifier(String protocolIdentifier) {
 		this.protocolIdentifier = protocolIdentifier;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -277,6 +290,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public App withProtocolIdentifier(String protocolIdentifier) {
 		this.protocolIdentifier = protocolIdentifier;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -298,6 +312,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAppName(String appName) {
 		this.appName = appName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -309,6 +324,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public App withAppName(String appName) {
 		this.appName = appName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -330,6 +346,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAppDefaultForwardingPolicy(Long appDefaultForwardingPolicy) {
 		this.appDefaultForwardingPolicy = appDefaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -341,6 +358,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public App withAppDefaultForwardingPolicy(Long appDefaultForwardingPolicy) {
 		this.appDefaultForwardingPolicy = appDefaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -366,6 +384,7 @@ A value of -1 indicates a null policer.
 	 */
 	public void  setAppDefaultPolicer(Integer appDefaultPolicer) {
 		this.appDefaultPolicer = appDefaultPolicer;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -379,6 +398,7 @@ A value of -1 indicates a null policer.
 	 */
 	public App withAppDefaultPolicer(Integer appDefaultPolicer) {
 		this.appDefaultPolicer = appDefaultPolicer;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -404,6 +424,7 @@ A value of -1 indicates a null queue.
 	 */
 	public void  setAppDefaultQueue(Integer appDefaultQueue) {
 		this.appDefaultQueue = appDefaultQueue;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -417,6 +438,7 @@ A value of -1 indicates a null queue.
 	 */
 	public App withAppDefaultQueue(Integer appDefaultQueue) {
 		this.appDefaultQueue = appDefaultQueue;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -446,6 +468,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public void  setAppDefaultDSCPMark(Integer appDefaultDSCPMark) {
 		this.appDefaultDSCPMark = appDefaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -461,6 +484,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public App withAppDefaultDSCPMark(Integer appDefaultDSCPMark) {
 		this.appDefaultDSCPMark = appDefaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -490,6 +514,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public void  setAppDefaultEthernetPriorityMark(Integer appDefaultEthernetPriorityMark) {
 		this.appDefaultEthernetPriorityMark = appDefaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -505,6 +530,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public App withAppDefaultEthernetPriorityMark(Integer appDefaultEthernetPriorityMark) {
 		this.appDefaultEthernetPriorityMark = appDefaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 import org.broadbandforum.common.MACAddress;
 
@@ -758,6 +759,11 @@ A value of -1 indicates a null App table entry.
 	@Size(min = -1)
 	public Integer classApp;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Classification() {
 	}
 
@@ -784,6 +790,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setClassificationKey(Long classificationKey) {
 		this.classificationKey = classificationKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -797,6 +804,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Classification withClassificationKey(Long classificationKey) {
 		this.classificationKey = classificationKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -818,6 +826,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setClassificationEnable(Boolean classificationEnable) {
 		this.classificationEnable = classificationEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -829,6 +838,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Classification withClassificationEnable(Boolean classificationEnable) {
 		this.classificationEnable = classificationEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -854,6 +864,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setClassificationStatus(String classificationStatus) {
 		this.classificationStatus = classificationStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -867,6 +878,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Classification withClassificationStatus(String classificationStatus) {
 		this.classificationStatus = classificationStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -892,6 +904,7 @@ When this value is modified, if the value matches that of an existing entry, the
 	 */
 	public void  setClassificationOrder(Long classificationOrder) {
 		this.classificationOrder = classificationOrder;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -905,6 +918,7 @@ When this value is modified, if the value matches that of an existing entry, the
 	 */
 	public Classification withClassificationOrder(Long classificationOrder) {
 		this.classificationOrder = classificationOrder;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -974,6 +988,7 @@ The string ''Local'' indicates this entry is to apply to IP-layer traffic enteri
 	 */
 	public void  setClassInterface(String classInterface) {
 		this.classInterface = classInterface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -1009,6 +1024,7 @@ The string ''Local'' indicates this entry is to apply to IP-layer traffic enteri
 	 */
 	public Classification withClassInterface(String classInterface) {
 		this.classInterface = classInterface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -1034,6 +1050,7 @@ Destination IP address.  {{empty}} indicates this criterion is not used for clas
 	 */
 	public void  setDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -1047,6 +1064,7 @@ Destination IP address.  {{empty}} indicates this criterion is not used for clas
 	 */
 	public Classification withDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -1068,6 +1086,7 @@ Destination IP address.  {{empty}} indicates this criterion is not used for clas
 	 */
 	public void  setDestMask(IPAddress destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -1079,6 +1098,7 @@ Destination IP address.  {{empty}} indicates this criterion is not used for clas
 	 */
 	public Classification withDestMask(IPAddress destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -1104,6 +1124,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public void  setDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -1117,6 +1138,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public Classification withDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -1142,6 +1164,7 @@ Source IP address.  {{empty}} indicates this criterion is not used for classific
 	 */
 	public void  setSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -1155,6 +1178,7 @@ Source IP address.  {{empty}} indicates this criterion is not used for classific
 	 */
 	public Classification withSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -1176,6 +1200,7 @@ Source IP address.  {{empty}} indicates this criterion is not used for classific
 	 */
 	public void  setSourceMask(IPAddress sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -1187,6 +1212,7 @@ Source IP address.  {{empty}} indicates this criterion is not used for classific
 	 */
 	public Classification withSourceMask(IPAddress sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -1212,6 +1238,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public void  setSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -1225,6 +1252,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public Classification withSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -1250,6 +1278,7 @@ Protocol number.  A value of -1 indicates this criterion is not used for classif
 	 */
 	public void  setProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -1263,6 +1292,7 @@ Protocol number.  A value of -1 indicates this criterion is not used for classif
 	 */
 	public Classification withProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1288,6 +1318,7 @@ If {{true}}, the class includes all packets except those that match the Protocol
 	 */
 	public void  setProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1301,6 +1332,7 @@ If {{true}}, the class includes all packets except those that match the Protocol
 	 */
 	public Classification withProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1326,6 +1358,7 @@ Destination port number.  A value of -1 indicates this criterion is not used for
 	 */
 	public void  setDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1339,6 +1372,7 @@ Destination port number.  A value of -1 indicates this criterion is not used for
 	 */
 	public Classification withDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1368,6 +1402,7 @@ A value of -1 indicates that no port range is specified.
 	 */
 	public void  setDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1383,6 +1418,7 @@ A value of -1 indicates that no port range is specified.
 	 */
 	public Classification withDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1408,6 +1444,7 @@ If {{true}}, the class includes all packets except those that match the DestPort
 	 */
 	public void  setDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1421,6 +1458,7 @@ If {{true}}, the class includes all packets except those that match the DestPort
 	 */
 	public Classification withDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1446,6 +1484,7 @@ Source port number.  A value of -1 indicates this criterion is not used for clas
 	 */
 	public void  setSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1459,6 +1498,7 @@ Source port number.  A value of -1 indicates this criterion is not used for clas
 	 */
 	public Classification withSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1488,6 +1528,7 @@ A value of -1 indicates that no port range is specified.
 	 */
 	public void  setSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1503,6 +1544,7 @@ A value of -1 indicates that no port range is specified.
 	 */
 	public Classification withSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1528,6 +1570,7 @@ If {{true}}, the class includes all packets except those that match the SourcePo
 	 */
 	public void  setSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1541,6 +1584,7 @@ If {{true}}, the class includes all packets except those that match the SourcePo
 	 */
 	public Classification withSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1566,6 +1610,7 @@ Source MAC Address.  {{empty}} indicates this criterion is not used for classifi
 	 */
 	public void  setSourceMACAddress(MACAddress sourceMACAddress) {
 		this.sourceMACAddress = sourceMACAddress;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1579,6 +1624,7 @@ Source MAC Address.  {{empty}} indicates this criterion is not used for classifi
 	 */
 	public Classification withSourceMACAddress(MACAddress sourceMACAddress) {
 		this.sourceMACAddress = sourceMACAddress;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1600,6 +1646,7 @@ Source MAC Address.  {{empty}} indicates this criterion is not used for classifi
 	 */
 	public void  setSourceMACMask(IPAddress sourceMACMask) {
 		this.sourceMACMask = sourceMACMask;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1611,6 +1658,7 @@ Source MAC Address.  {{empty}} indicates this criterion is not used for classifi
 	 */
 	public Classification withSourceMACMask(IPAddress sourceMACMask) {
 		this.sourceMACMask = sourceMACMask;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1636,6 +1684,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public void  setSourceMACExclude(Boolean sourceMACExclude) {
 		this.sourceMACExclude = sourceMACExclude;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1649,6 +1698,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public Classification withSourceMACExclude(Boolean sourceMACExclude) {
 		this.sourceMACExclude = sourceMACExclude;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1678,6 +1728,7 @@ The use of destination MAC address as a classification criterion is primarily us
 	 */
 	public void  setDestMACAddress(MACAddress destMACAddress) {
 		this.destMACAddress = destMACAddress;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1693,6 +1744,7 @@ The use of destination MAC address as a classification criterion is primarily us
 	 */
 	public Classification withDestMACAddress(MACAddress destMACAddress) {
 		this.destMACAddress = destMACAddress;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1714,6 +1766,7 @@ The use of destination MAC address as a classification criterion is primarily us
 	 */
 	public void  setDestMACMask(IPAddress destMACMask) {
 		this.destMACMask = destMACMask;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1725,6 +1778,7 @@ The use of destination MAC address as a classification criterion is primarily us
 	 */
 	public Classification withDestMACMask(IPAddress destMACMask) {
 		this.destMACMask = destMACMask;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1750,6 +1804,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public void  setDestMACExclude(Boolean destMACExclude) {
 		this.destMACExclude = destMACExclude;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1763,6 +1818,7 @@ If {{true}}, the class includes all packets except those that match the (masked)
 	 */
 	public Classification withDestMACExclude(Boolean destMACExclude) {
 		this.destMACExclude = destMACExclude;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1788,6 +1844,7 @@ Ethertype as indicated in either the Ethernet or SNAP Type header.  A value of -
 	 */
 	public void  setEthertype(Integer ethertype) {
 		this.ethertype = ethertype;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1801,6 +1858,7 @@ Ethertype as indicated in either the Ethernet or SNAP Type header.  A value of -
 	 */
 	public Classification withEthertype(Integer ethertype) {
 		this.ethertype = ethertype;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1826,6 +1884,7 @@ If {{true}}, the class includes all packets except those that match the Ethertyp
 	 */
 	public void  setEthertypeExclude(Boolean ethertypeExclude) {
 		this.ethertypeExclude = ethertypeExclude;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1839,6 +1898,7 @@ If {{true}}, the class includes all packets except those that match the Ethertyp
 	 */
 	public Classification withEthertypeExclude(Boolean ethertypeExclude) {
 		this.ethertypeExclude = ethertypeExclude;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1864,6 +1924,7 @@ SSAP element in the LLC header.  A value of -1 indicates this criterion is not u
 	 */
 	public void  setSsaP(Integer ssaP) {
 		this.ssaP = ssaP;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1877,6 +1938,7 @@ SSAP element in the LLC header.  A value of -1 indicates this criterion is not u
 	 */
 	public Classification withSsaP(Integer ssaP) {
 		this.ssaP = ssaP;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1902,6 +1964,7 @@ If {{true}}, the class includes all packets except those that match the SSAP ent
 	 */
 	public void  setSsaPExclude(Boolean ssaPExclude) {
 		this.ssaPExclude = ssaPExclude;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1915,6 +1978,7 @@ If {{true}}, the class includes all packets except those that match the SSAP ent
 	 */
 	public Classification withSsaPExclude(Boolean ssaPExclude) {
 		this.ssaPExclude = ssaPExclude;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1940,6 +2004,7 @@ DSAP element in the LLC header.  A value of -1 indicates this criterion is not u
 	 */
 	public void  setDsaP(Integer dsaP) {
 		this.dsaP = dsaP;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1953,6 +2018,7 @@ DSAP element in the LLC header.  A value of -1 indicates this criterion is not u
 	 */
 	public Classification withDsaP(Integer dsaP) {
 		this.dsaP = dsaP;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1978,6 +2044,7 @@ If {{true}}, the class includes all packets except those that match the DSAP ent
 	 */
 	public void  setDsaPExclude(Boolean dsaPExclude) {
 		this.dsaPExclude = dsaPExclude;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1991,6 +2058,7 @@ If {{true}}, the class includes all packets except those that match the DSAP ent
 	 */
 	public Classification withDsaPExclude(Boolean dsaPExclude) {
 		this.dsaPExclude = dsaPExclude;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -2016,6 +2084,7 @@ Control element in the LLC header.  A value of -1 indicates this criterion is no
 	 */
 	public void  setLlcControl(Integer llcControl) {
 		this.llcControl = llcControl;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -2029,6 +2098,7 @@ Control element in the LLC header.  A value of -1 indicates this criterion is no
 	 */
 	public Classification withLlcControl(Integer llcControl) {
 		this.llcControl = llcControl;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -2054,6 +2124,7 @@ If {{true}}, the class includes all packets except those that match the LLCContr
 	 */
 	public void  setLlcControlExclude(Boolean llcControlExclude) {
 		this.llcControlExclude = llcControlExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -2067,6 +2138,7 @@ If {{true}}, the class includes all packets except those that match the LLCContr
 	 */
 	public Classification withLlcControlExclude(Boolean llcControlExclude) {
 		this.llcControlExclude = llcControlExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -2092,6 +2164,7 @@ OUI element in the SNAP header.  A value of -1 indicates this criterion is not u
 	 */
 	public void  setSnaPOUI(Integer snaPOUI) {
 		this.snaPOUI = snaPOUI;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -2105,6 +2178,7 @@ OUI element in the SNAP header.  A value of -1 indicates this criterion is not u
 	 */
 	public Classification withSnaPOUI(Integer snaPOUI) {
 		this.snaPOUI = snaPOUI;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -2130,6 +2204,7 @@ If {{true}}, the class includes all packets except those that match the SNAPOUI
 	 */
 	public void  setSnaPOUIExclude(Boolean snaPOUIExclude) {
 		this.snaPOUIExclude = snaPOUIExclude;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -2143,6 +2218,7 @@ If {{true}}, the class includes all packets except those that match the SNAPOUI
 	 */
 	public Classification withSnaPOUIExclude(Boolean snaPOUIExclude) {
 		this.snaPOUIExclude = snaPOUIExclude;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -2172,6 +2248,7 @@ Used to identify one or more LAN devices, value of the DHCP Vendor Class Identif
 	 */
 	public void  setSourceVendorClassID(String sourceVendorClassID) {
 		this.sourceVendorClassID = sourceVendorClassID;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -2187,6 +2264,7 @@ Used to identify one or more LAN devices, value of the DHCP Vendor Class Identif
 	 */
 	public Classification withSourceVendorClassID(String sourceVendorClassID) {
 		this.sourceVendorClassID = sourceVendorClassID;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -2212,6 +2290,7 @@ If {{true}}, the class includes all packets except those sourced from LAN device
 	 */
 	public void  setSourceVendorClassIDExclude(Boolean sourceVendorClassIDExclude) {
 		this.sourceVendorClassIDExclude = sourceVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -2225,6 +2304,7 @@ If {{true}}, the class includes all packets except those sourced from LAN device
 	 */
 	public Classification withSourceVendorClassIDExclude(Boolean sourceVendorClassIDExclude) {
 		this.sourceVendorClassIDExclude = sourceVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -2254,6 +2334,7 @@ Used to identify one or more LAN devices, value of the DHCP Vendor Class Identif
 	 */
 	public void  setDestVendorClassID(String destVendorClassID) {
 		this.destVendorClassID = destVendorClassID;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -2269,6 +2350,7 @@ Used to identify one or more LAN devices, value of the DHCP Vendor Class Identif
 	 */
 	public Classification withDestVendorClassID(String destVendorClassID) {
 		this.destVendorClassID = destVendorClassID;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -2294,6 +2376,7 @@ If {{true}}, the class includes all packets except those destined for LAN device
 	 */
 	public void  setDestVendorClassIDExclude(Boolean destVendorClassIDExclude) {
 		this.destVendorClassIDExclude = destVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -2307,6 +2390,7 @@ If {{true}}, the class includes all packets except those destined for LAN device
 	 */
 	public Classification withDestVendorClassIDExclude(Boolean destVendorClassIDExclude) {
 		this.destVendorClassIDExclude = destVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -2336,6 +2420,7 @@ Used to identify one or more LAN devices, value of the DHCP Client Identifier (O
 	 */
 	public void  setSourceClientID(String sourceClientID) {
 		this.sourceClientID = sourceClientID;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -2351,6 +2436,7 @@ Used to identify one or more LAN devices, value of the DHCP Client Identifier (O
 	 */
 	public Classification withSourceClientID(String sourceClientID) {
 		this.sourceClientID = sourceClientID;
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -2376,6 +2462,7 @@ If {{true}}, the class includes all packets except those sourced from LAN device
 	 */
 	public void  setSourceClientIDExclude(Boolean sourceClientIDExclude) {
 		this.sourceClientIDExclude = sourceClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(40);}
 	}
 
 	/**
@@ -2389,6 +2476,7 @@ If {{true}}, the class includes all packets except those sourced from LAN device
 	 */
 	public Classification withSourceClientIDExclude(Boolean sourceClientIDExclude) {
 		this.sourceClientIDExclude = sourceClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(40);}
 		return this;
 	}
 
@@ -2418,6 +2506,7 @@ Used to identify one or more LAN devices, value of the DHCP Client Identifier (O
 	 */
 	public void  setDestClientID(String destClientID) {
 		this.destClientID = destClientID;
+		if (this.dirty != null){ this.dirty.set(41);}
 	}
 
 	/**
@@ -2433,6 +2522,7 @@ Used to identify one or more LAN devices, value of the DHCP Client Identifier (O
 	 */
 	public Classification withDestClientID(String destClientID) {
 		this.destClientID = destClientID;
+		if (this.dirty != null){ this.dirty.set(41);}
 		return this;
 	}
 
@@ -2458,6 +2548,7 @@ If {{true}}, the class includes all packets except those destined for LAN device
 	 */
 	public void  setDestClientIDExclude(Boolean destClientIDExclude) {
 		this.destClientIDExclude = destClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(42);}
 	}
 
 	/**
@@ -2471,6 +2562,7 @@ If {{true}}, the class includes all packets except those destined for LAN device
 	 */
 	public Classification withDestClientIDExclude(Boolean destClientIDExclude) {
 		this.destClientIDExclude = destClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(42);}
 		return this;
 	}
 
@@ -2500,6 +2592,7 @@ Used to identify one or more LAN devices, value of the DHCP User Class Identifie
 	 */
 	public void  setSourceUserClassID(String sourceUserClassID) {
 		this.sourceUserClassID = sourceUserClassID;
+		if (this.dirty != null){ this.dirty.set(43);}
 	}
 
 	/**
@@ -2515,6 +2608,7 @@ Used to identify one or more LAN devices, value of the DHCP User Class Identifie
 	 */
 	public Classification withSourceUserClassID(String sourceUserClassID) {
 		this.sourceUserClassID = sourceUserClassID;
+		if (this.dirty != null){ this.dirty.set(43);}
 		return this;
 	}
 
@@ -2540,6 +2634,7 @@ If {{true}}, the class includes all packets except those sourced from LAN device
 	 */
 	public void  setSourceUserClassIDExclude(Boolean sourceUserClassIDExclude) {
 		this.sourceUserClassIDExclude = sourceUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(44);}
 	}
 
 	/**
@@ -2553,6 +2648,7 @@ If {{true}}, the class includes all packets except those sourced from LAN device
 	 */
 	public Classification withSourceUserClassIDExclude(Boolean sourceUserClassIDExclude) {
 		this.sourceUserClassIDExclude = sourceUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(44);}
 		return this;
 	}
 
@@ -2582,6 +2678,7 @@ Used to identify one or more LAN devices, value of the DHCP User Class Identifie
 	 */
 	public void  setDestUserClassID(String destUserClassID) {
 		this.destUserClassID = destUserClassID;
+		if (this.dirty != null){ this.dirty.set(45);}
 	}
 
 	/**
@@ -2597,6 +2694,7 @@ Used to identify one or more LAN devices, value of the DHCP User Class Identifie
 	 */
 	public Classification withDestUserClassID(String destUserClassID) {
 		this.destUserClassID = destUserClassID;
+		if (this.dirty != null){ this.dirty.set(45);}
 		return this;
 	}
 
@@ -2622,6 +2720,7 @@ If {{true}}, the class includes all packets except those destined for LAN device
 	 */
 	public void  setDestUserClassIDExclude(Boolean destUserClassIDExclude) {
 		this.destUserClassIDExclude = destUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(46);}
 	}
 
 	/**
@@ -2635,6 +2734,7 @@ If {{true}}, the class includes all packets except those destined for LAN device
 	 */
 	public Classification withDestUserClassIDExclude(Boolean destUserClassIDExclude) {
 		this.destUserClassIDExclude = destUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(46);}
 		return this;
 	}
 
@@ -2664,6 +2764,7 @@ If {{true}}, this criterion matches with all TCP segments that have the ACK cont
 	 */
 	public void  setTcpACK(Boolean tcpACK) {
 		this.tcpACK = tcpACK;
+		if (this.dirty != null){ this.dirty.set(47);}
 	}
 
 	/**
@@ -2679,6 +2780,7 @@ If {{true}}, this criterion matches with all TCP segments that have the ACK cont
 	 */
 	public Classification withTcpACK(Boolean tcpACK) {
 		this.tcpACK = tcpACK;
+		if (this.dirty != null){ this.dirty.set(47);}
 		return this;
 	}
 
@@ -2704,6 +2806,7 @@ If {{true}}, the class includes all packets except those that match the TCPACK e
 	 */
 	public void  setTcpACKExclude(Boolean tcpACKExclude) {
 		this.tcpACKExclude = tcpACKExclude;
+		if (this.dirty != null){ this.dirty.set(48);}
 	}
 
 	/**
@@ -2717,6 +2820,7 @@ If {{true}}, the class includes all packets except those that match the TCPACK e
 	 */
 	public Classification withTcpACKExclude(Boolean tcpACKExclude) {
 		this.tcpACKExclude = tcpACKExclude;
+		if (this.dirty != null){ this.dirty.set(48);}
 		return this;
 	}
 
@@ -2742,6 +2846,7 @@ Minimum IP Packet Length (including header) in bytes.
 	 */
 	public void  setIplengthMin(Long iplengthMin) {
 		this.iplengthMin = iplengthMin;
+		if (this.dirty != null){ this.dirty.set(49);}
 	}
 
 	/**
@@ -2755,6 +2860,7 @@ Minimum IP Packet Length (including header) in bytes.
 	 */
 	public Classification withIplengthMin(Long iplengthMin) {
 		this.iplengthMin = iplengthMin;
+		if (this.dirty != null){ this.dirty.set(49);}
 		return this;
 	}
 
@@ -2784,6 +2890,7 @@ A value of zero indicates that no maximum is specified (an umlimited maximum len
 	 */
 	public void  setIplengthMax(Long iplengthMax) {
 		this.iplengthMax = iplengthMax;
+		if (this.dirty != null){ this.dirty.set(50);}
 	}
 
 	/**
@@ -2799,6 +2906,7 @@ A value of zero indicates that no maximum is specified (an umlimited maximum len
 	 */
 	public Classification withIplengthMax(Long iplengthMax) {
 		this.iplengthMax = iplengthMax;
+		if (this.dirty != null){ this.dirty.set(50);}
 		return this;
 	}
 
@@ -2824,6 +2932,7 @@ If {{true}}, the class includes all packets except those whose length (including
 	 */
 	public void  setIplengthExclude(Boolean iplengthExclude) {
 		this.iplengthExclude = iplengthExclude;
+		if (this.dirty != null){ this.dirty.set(51);}
 	}
 
 	/**
@@ -2837,6 +2946,7 @@ If {{true}}, the class includes all packets except those whose length (including
 	 */
 	public Classification withIplengthExclude(Boolean iplengthExclude) {
 		this.iplengthExclude = iplengthExclude;
+		if (this.dirty != null){ this.dirty.set(51);}
 		return this;
 	}
 
@@ -2870,6 +2980,7 @@ A value of -1 indicates this criterion is not used for classification.
 	 */
 	public void  setDscPCheck(Integer dscPCheck) {
 		this.dscPCheck = dscPCheck;
+		if (this.dirty != null){ this.dirty.set(52);}
 	}
 
 	/**
@@ -2887,6 +2998,7 @@ A value of -1 indicates this criterion is not used for classification.
 	 */
 	public Classification withDscPCheck(Integer dscPCheck) {
 		this.dscPCheck = dscPCheck;
+		if (this.dirty != null){ this.dirty.set(52);}
 		return this;
 	}
 
@@ -2912,6 +3024,7 @@ If {{true}}, the class includes all packets except those that match the DSCPChec
 	 */
 	public void  setDscPExclude(Boolean dscPExclude) {
 		this.dscPExclude = dscPExclude;
+		if (this.dirty != null){ this.dirty.set(53);}
 	}
 
 	/**
@@ -2925,6 +3038,7 @@ If {{true}}, the class includes all packets except those that match the DSCPChec
 	 */
 	public Classification withDscPExclude(Boolean dscPExclude) {
 		this.dscPExclude = dscPExclude;
+		if (this.dirty != null){ this.dirty.set(53);}
 		return this;
 	}
 
@@ -2958,6 +3072,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public void  setDscPMark(Integer dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(54);}
 	}
 
 	/**
@@ -2975,6 +3090,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public Classification withDscPMark(Integer dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(54);}
 		return this;
 	}
 
@@ -3000,6 +3116,7 @@ Current Ethernet priority as defined in 802.1D.  A value of -1 indicates this cr
 	 */
 	public void  setEthernetPriorityCheck(Integer ethernetPriorityCheck) {
 		this.ethernetPriorityCheck = ethernetPriorityCheck;
+		if (this.dirty != null){ this.dirty.set(55);}
 	}
 
 	/**
@@ -3013,6 +3130,7 @@ Current Ethernet priority as defined in 802.1D.  A value of -1 indicates this cr
 	 */
 	public Classification withEthernetPriorityCheck(Integer ethernetPriorityCheck) {
 		this.ethernetPriorityCheck = ethernetPriorityCheck;
+		if (this.dirty != null){ this.dirty.set(55);}
 		return this;
 	}
 
@@ -3038,6 +3156,7 @@ If {{true}}, the class includes all packets except those that match the Ethernet
 	 */
 	public void  setEthernetPriorityExclude(Boolean ethernetPriorityExclude) {
 		this.ethernetPriorityExclude = ethernetPriorityExclude;
+		if (this.dirty != null){ this.dirty.set(56);}
 	}
 
 	/**
@@ -3051,6 +3170,7 @@ If {{true}}, the class includes all packets except those that match the Ethernet
 	 */
 	public Classification withEthernetPriorityExclude(Boolean ethernetPriorityExclude) {
 		this.ethernetPriorityExclude = ethernetPriorityExclude;
+		if (this.dirty != null){ this.dirty.set(56);}
 		return this;
 	}
 
@@ -3084,6 +3204,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(57);}
 	}
 
 	/**
@@ -3101,6 +3222,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public Classification withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(57);}
 		return this;
 	}
 
@@ -3126,6 +3248,7 @@ Current Ethernet VLAN ID as defined in 802.1Q.  A value of -1 indicates this cri
 	 */
 	public void  setVlaNIDCheck(Integer vlaNIDCheck) {
 		this.vlaNIDCheck = vlaNIDCheck;
+		if (this.dirty != null){ this.dirty.set(58);}
 	}
 
 	/**
@@ -3139,6 +3262,7 @@ Current Ethernet VLAN ID as defined in 802.1Q.  A value of -1 indicates this cri
 	 */
 	public Classification withVlaNIDCheck(Integer vlaNIDCheck) {
 		this.vlaNIDCheck = vlaNIDCheck;
+		if (this.dirty != null){ this.dirty.set(58);}
 		return this;
 	}
 
@@ -3164,6 +3288,7 @@ If {{true}}, the class includes all packets except those that match the VLANIDCh
 	 */
 	public void  setVlaNIDExclude(Boolean vlaNIDExclude) {
 		this.vlaNIDExclude = vlaNIDExclude;
+		if (this.dirty != null){ this.dirty.set(59);}
 	}
 
 	/**
@@ -3177,6 +3302,7 @@ If {{true}}, the class includes all packets except those that match the VLANIDCh
 	 */
 	public Classification withVlaNIDExclude(Boolean vlaNIDExclude) {
 		this.vlaNIDExclude = vlaNIDExclude;
+		if (this.dirty != null){ this.dirty.set(59);}
 		return this;
 	}
 
@@ -3202,6 +3328,7 @@ Identifier of the forwarding policy associated with traffic that falls in this c
 	 */
 	public void  setForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(60);}
 	}
 
 	/**
@@ -3215,6 +3342,7 @@ Identifier of the forwarding policy associated with traffic that falls in this c
 	 */
 	public Classification withForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(60);}
 		return this;
 	}
 
@@ -3244,6 +3372,7 @@ A value of -1 indicates a null policer.
 	 */
 	public void  setClassPolicer(Integer classPolicer) {
 		this.classPolicer = classPolicer;
+		if (this.dirty != null){ this.dirty.set(61);}
 	}
 
 	/**
@@ -3259,6 +3388,7 @@ A value of -1 indicates a null policer.
 	 */
 	public Classification withClassPolicer(Integer classPolicer) {
 		this.classPolicer = classPolicer;
+		if (this.dirty != null){ this.dirty.set(61);}
 		return this;
 	}
 
@@ -3292,6 +3422,7 @@ A value of -1 indicates a null queue.
 	 */
 	public void  setClassQueue(Integer classQueue) {
 		this.classQueue = classQueue;
+		if (this.dirty != null){ this.dirty.set(62);}
 	}
 
 	/**
@@ -3309,6 +3440,7 @@ A value of -1 indicates a null queue.
 	 */
 	public Classification withClassQueue(Integer classQueue) {
 		this.classQueue = classQueue;
+		if (this.dirty != null){ this.dirty.set(62);}
 		return this;
 	}
 
@@ -3342,6 +3474,7 @@ A value of -1 indicates a null App table entry.
 	 */
 	public void  setClassApp(Integer classApp) {
 		this.classApp = classApp;
+		if (this.dirty != null){ this.dirty.set(63);}
 	}
 
 	/**
@@ -3359,6 +3492,7 @@ A value of -1 indicates a null App table entry.
 	 */
 	public Classification withClassApp(Integer classApp) {
 		this.classApp = classApp;
+		if (this.dirty != null){ this.dirty.set(63);}
 		return this;
 	}
 
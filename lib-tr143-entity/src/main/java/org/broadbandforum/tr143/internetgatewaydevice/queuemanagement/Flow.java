@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Flow table.
@@ -154,6 +155,11 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	@Size(min = -2)
 	public Integer flowEthernetPriorityMark;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Flow() {
 	}
 
@@ -180,6 +186,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setFlowKey(Long flowKey) {
 		this.flowKey = flowKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -193,6 +200,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Flow withFlowKey(Long flowKey) {
 		this.flowKey = flowKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -214,6 +222,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setFlowEnable(Boolean flowEnable) {
 		this.flowEnable = flowEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -225,6 +234,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Flow withFlowEnable(Boolean flowEnable) {
 		this.flowEnable = flowEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -250,6 +260,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setFlowStatus(String flowStatus) {
 		this.flowStatus = flowStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -263,6 +274,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Flow withFlowStatus(String flowStatus) {
 		this.flowStatus = flowStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -284,6 +296,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setFlowType(String flowType) {
 		this.flowType = flowType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -295,6 +308,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Flow withFlowType(String flowType) {
 		this.flowType = flowType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -316,6 +330,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setFlowTypeParameters(String flowTypeParameters) {
 		this.flowTypeParameters = flowTypeParameters;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -327,6 +342,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Flow withFlowTypeParameters(String flowTypeParameters) {
 		this.flowTypeParameters = flowTypeParameters;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -348,6 +364,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setFlowName(String flowName) {
 		this.flowName = flowName;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -359,6 +376,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Flow withFlowName(String flowName) {
 		this.flowName = flowName;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -380,6 +398,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAppIdentifier(Integer appIdentifier) {
 		this.appIdentifier = appIdentifier;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -391,6 +410,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Flow withAppIdentifier(Integer appIdentifier) {
 		this.appIdentifier = appIdentifier;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -412,6 +432,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setFlowForwardingPolicy(Long flowForwardingPolicy) {
 		this.flowForwardingPolicy = flowForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -423,6 +444,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Flow withFlowForwardingPolicy(Long flowForwardingPolicy) {
 		this.flowForwardingPolicy = flowForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -448,6 +470,7 @@ A value of -1 indicates a null policer.
 	 */
 	public void  setFlowPolicer(Integer flowPolicer) {
 		this.flowPolicer = flowPolicer;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -461,6 +484,7 @@ A value of -1 indicates a null policer.
 	 */
 	public Flow withFlowPolicer(Integer flowPolicer) {
 		this.flowPolicer = flowPolicer;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -486,6 +510,7 @@ A value of -1 indicates a null queue.
 	 */
 	public void  setFlowQueue(Integer flowQueue) {
 		this.flowQueue = flowQueue;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -499,6 +524,7 @@ A value of -1 indicates a null queue.
 	 */
 	public Flow withFlowQueue(Integer flowQueue) {
 		this.flowQueue = flowQueue;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -528,6 +554,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public void  setFlowDSCPMark(Integer flowDSCPMark) {
 		this.flowDSCPMark = flowDSCPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -543,6 +570,7 @@ A value of -2 indicates automatic marking of DSCP based upon the EthernetPriorit
 	 */
 	public Flow withFlowDSCPMark(Integer flowDSCPMark) {
 		this.flowDSCPMark = flowDSCPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -572,6 +600,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public void  setFlowEthernetPriorityMark(Integer flowEthernetPriorityMark) {
 		this.flowEthernetPriorityMark = flowEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -587,6 +616,7 @@ A value of -2 indicates automatic marking of EthernetPriority based upon the DSC
 	 */
 	public Flow withFlowEthernetPriorityMark(Integer flowEthernetPriorityMark) {
 		this.flowEthernetPriorityMark = flowEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice.queuemanagement;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Policer table.
@@ -203,6 +205,11 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long countedBytes = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Policer() {
 	}
 
@@ -229,6 +236,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setPolicerKey(Long policerKey) {
 		this.policerKey = policerKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -242,6 +250,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Policer withPolicerKey(Long policerKey) {
 		this.policerKey = policerKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -263,6 +272,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setPolicerEnable(Boolean policerEnable) {
 		this.policerEnable = policerEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -274,6 +284,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Policer withPolicerEnable(Boolean policerEnable) {
 		this.policerEnable = policerEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -299,6 +310,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setPolicerStatus(String policerStatus) {
 		this.policerStatus = policerStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -312,6 +324,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Policer withPolicerStatus(String policerStatus) {
 		this.policerStatus = policerStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -333,6 +346,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setCommittedRate(Long committedRate) {
 		this.committedRate = committedRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -344,6 +358,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Policer withCommittedRate(Long committedRate) {
 		this.committedRate = committedRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -365,6 +380,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setCommittedBurstSize(Long committedBurstSize) {
 		this.committedBurstSize = committedBurstSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -376,6 +392,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Policer withCommittedBurstSize(Long committedBurstSize) {
 		this.committedBurstSize = committedBurstSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -401,6 +418,7 @@ Applied for a {{enum|SingleRateThreeColor|MeterType}} meter.
 	 */
 	public void  setExcessBurstSize(Long excessBurstSize) {
 		this.excessBurstSize = excessBurstSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -414,6 +432,7 @@ Applied for a {{enum|SingleRateThreeColor|MeterType}} meter.
 	 */
 	public Policer withExcessBurstSize(Long excessBurstSize) {
 		this.excessBurstSize = excessBurstSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -439,6 +458,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public void  setPeakRate(Long peakRate) {
 		this.peakRate = peakRate;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -452,6 +472,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public Policer withPeakRate(Long peakRate) {
 		this.peakRate = peakRate;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -477,6 +498,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public void  setPeakBurstSize(Long peakBurstSize) {
 		this.peakBurstSize = peakBurstSize;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -490,6 +512,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public Policer withPeakBurstSize(Long peakBurstSize) {
 		this.peakBurstSize = peakBurstSize;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -523,6 +546,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public void  setMeterType(String meterType) {
 		this.meterType = meterType;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -540,6 +564,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public Policer withMeterType(String meterType) {
 		this.meterType = meterType;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -554,6 +579,17 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 		return possibleMeterTypes;
 	}
 
+	/**
+	 * Read the supported meter types.
+	 *
+	 * @since 1.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleMeterTypes() {
+		return possibleMeterTypes == null ? Collections.emptyList() : possibleMeterTypes;
+	}
+
 	/**
 	 * Set the supported meter types.
 	 *
@@ -562,6 +598,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public void  setPossibleMeterTypes(Collection<String> possibleMeterTypes) {
 		this.possibleMeterTypes = possibleMeterTypes;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -573,6 +610,7 @@ Applied for {{enum|TwoRateThreeColor|MeterType}} meters.
 	 */
 	public Policer withPossibleMeterTypes(String string) {
 		getPossibleMeterTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -614,6 +652,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public void  setConformingAction(String conformingAction) {
 		this.conformingAction = conformingAction;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -635,6 +674,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public Policer withConformingAction(String conformingAction) {
 		this.conformingAction = conformingAction;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -676,6 +716,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public void  setPartialConformingAction(String partialConformingAction) {
 		this.partialConformingAction = partialConformingAction;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -697,6 +738,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public Policer withPartialConformingAction(String partialConformingAction) {
 		this.partialConformingAction = partialConformingAction;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -738,6 +780,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public void  setNonConformingAction(String nonConformingAction) {
 		this.nonConformingAction = nonConformingAction;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -759,6 +802,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public Policer withNonConformingAction(String nonConformingAction) {
 		this.nonConformingAction = nonConformingAction;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -780,6 +824,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public void  setCountedPackets(Long countedPackets) {
 		this.countedPackets = countedPackets;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -791,6 +836,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public Policer withCountedPackets(Long countedPackets) {
 		this.countedPackets = countedPackets;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -812,6 +858,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public void  setCountedBytes(Long countedBytes) {
 		this.countedBytes = countedBytes;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -823,6 +870,7 @@ A {{pattern|Count}} action increases the meter instance count statistics.
 	 */
 	public Policer withCountedBytes(Long countedBytes) {
 		this.countedBytes = countedBytes;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
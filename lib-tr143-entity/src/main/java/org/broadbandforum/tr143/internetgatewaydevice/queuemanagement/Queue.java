@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Queue table.
@@ -178,6 +179,11 @@ A value of -1 indicates no shaping.
 	@CWMPParameter(access = "readWrite")
 	public Long shapingBurstSize = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Queue() {
 	}
 
@@ -204,6 +210,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setQueueKey(Long queueKey) {
 		this.queueKey = queueKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -217,6 +224,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Queue withQueueKey(Long queueKey) {
 		this.queueKey = queueKey;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -238,6 +246,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public void  setQueueEnable(Boolean queueEnable) {
 		this.queueEnable = queueEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -249,6 +258,7 @@ This parameter is OBSOLETED because it serves no purpose (no other parameter ref
 	 */
 	public Queue withQueueEnable(Boolean queueEnable) {
 		this.queueEnable = queueEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -274,6 +284,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setQueueStatus(String queueStatus) {
 		this.queueStatus = queueStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -287,6 +298,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public Queue withQueueStatus(String queueStatus) {
 		this.queueStatus = queueStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -332,6 +344,7 @@ For the default queue itself (the Queue table entry referenced by {{param|Intern
 	 */
 	public void  setQueueInterface(String queueInterface) {
 		this.queueInterface = queueInterface;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -355,6 +368,7 @@ For the default queue itself (the Queue table entry referenced by {{param|Intern
 	 */
 	public Queue withQueueInterface(String queueInterface) {
 		this.queueInterface = queueInterface;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -380,6 +394,7 @@ Queue buffer size for all egress interfaces for which this queue exists.  If the
 	 */
 	public void  setQueueBufferLength(Long queueBufferLength) {
 		this.queueBufferLength = queueBufferLength;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -393,6 +408,7 @@ Queue buffer size for all egress interfaces for which this queue exists.  If the
 	 */
 	public Queue withQueueBufferLength(Long queueBufferLength) {
 		this.queueBufferLength = queueBufferLength;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -414,6 +430,7 @@ Queue buffer size for all egress interfaces for which this queue exists.  If the
 	 */
 	public void  setQueueWeight(Long queueWeight) {
 		this.queueWeight = queueWeight;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -425,6 +442,7 @@ Queue buffer size for all egress interfaces for which this queue exists.  If the
 	 */
 	public Queue withQueueWeight(Long queueWeight) {
 		this.queueWeight = queueWeight;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -446,6 +464,7 @@ Queue buffer size for all egress interfaces for which this queue exists.  If the
 	 */
 	public void  setQueuePrecedence(Long queuePrecedence) {
 		this.queuePrecedence = queuePrecedence;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -457,6 +476,7 @@ Queue buffer size for all egress interfaces for which this queue exists.  If the
 	 */
 	public Queue withQueuePrecedence(Long queuePrecedence) {
 		this.queuePrecedence = queuePrecedence;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -490,6 +510,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public void  setRedThreshold(Long redThreshold) {
 		this.redThreshold = redThreshold;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -507,6 +528,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public Queue withRedThreshold(Long redThreshold) {
 		this.redThreshold = redThreshold;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -536,6 +558,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public void  setRedPercentage(Long redPercentage) {
 		this.redPercentage = redPercentage;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -551,6 +574,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public Queue withRedPercentage(Long redPercentage) {
 		this.redPercentage = redPercentage;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -572,6 +596,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public void  setDropAlgorithm(String dropAlgorithm) {
 		this.dropAlgorithm = dropAlgorithm;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -583,6 +608,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public Queue withDropAlgorithm(String dropAlgorithm) {
 		this.dropAlgorithm = dropAlgorithm;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -604,6 +630,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public void  setSchedulerAlgorithm(String schedulerAlgorithm) {
 		this.schedulerAlgorithm = schedulerAlgorithm;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -615,6 +642,7 @@ In this version of the data model, there is no way to set the RED weight (''w_q'
 	 */
 	public Queue withSchedulerAlgorithm(String schedulerAlgorithm) {
 		this.schedulerAlgorithm = schedulerAlgorithm;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -648,6 +676,7 @@ A value of -1 indicates no shaping.
 	 */
 	public void  setShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -665,6 +694,7 @@ A value of -1 indicates no shaping.
 	 */
 	public Queue withShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -686,6 +716,7 @@ A value of -1 indicates no shaping.
 	 */
 	public void  setShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -697,6 +728,7 @@ A value of -1 indicates no shaping.
 	 */
 	public Queue withShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr143.internetgatewaydevice.wandevice;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr143.internetgatewaydevice.wandevice.wancommoninterfaceconfig.Connection;
 
 	/**
@@ -141,6 +143,11 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	@XmlElement(name = "Connection")
 	public Collection<Connection> connections;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANCommonInterfaceConfig() {
 	}
 
@@ -163,6 +170,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setEnabledForInternet(Boolean enabledForInternet) {
 		this.enabledForInternet = enabledForInternet;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -174,6 +182,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withEnabledForInternet(Boolean enabledForInternet) {
 		this.enabledForInternet = enabledForInternet;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -195,6 +204,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setWanAccessType(String wanAccessType) {
 		this.wanAccessType = wanAccessType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -206,6 +216,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withWanAccessType(String wanAccessType) {
 		this.wanAccessType = wanAccessType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -231,6 +242,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setLayer1UpstreamMaxBitRate(Long layer1UpstreamMaxBitRate) {
 		this.layer1UpstreamMaxBitRate = layer1UpstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -244,6 +256,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withLayer1UpstreamMaxBitRate(Long layer1UpstreamMaxBitRate) {
 		this.layer1UpstreamMaxBitRate = layer1UpstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -269,6 +282,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setLayer1DownstreamMaxBitRate(Long layer1DownstreamMaxBitRate) {
 		this.layer1DownstreamMaxBitRate = layer1DownstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -282,6 +296,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withLayer1DownstreamMaxBitRate(Long layer1DownstreamMaxBitRate) {
 		this.layer1DownstreamMaxBitRate = layer1DownstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -303,6 +318,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setPhysicalLinkStatus(String physicalLinkStatus) {
 		this.physicalLinkStatus = physicalLinkStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -314,6 +330,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withPhysicalLinkStatus(String physicalLinkStatus) {
 		this.physicalLinkStatus = physicalLinkStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -335,6 +352,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setWanAccessProvider(String wanAccessProvider) {
 		this.wanAccessProvider = wanAccessProvider;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -346,6 +364,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withWanAccessProvider(String wanAccessProvider) {
 		this.wanAccessProvider = wanAccessProvider;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -367,6 +386,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -378,6 +398,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -399,6 +420,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -410,6 +432,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -431,6 +454,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -442,6 +466,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withTotalPacketsSent(Long totalPacketsSent) {
 		this.totalPacketsSent = totalPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -463,6 +488,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -474,6 +500,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withTotalPacketsReceived(Long totalPacketsReceived) {
 		this.totalPacketsReceived = totalPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -495,6 +522,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setMaximumActiveConnections(Long maximumActiveConnections) {
 		this.maximumActiveConnections = maximumActiveConnections;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -506,6 +534,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withMaximumActiveConnections(Long maximumActiveConnections) {
 		this.maximumActiveConnections = maximumActiveConnections;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -527,6 +556,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public void  setNumberOfActiveConnections(Long numberOfActiveConnections) {
 		this.numberOfActiveConnections = numberOfActiveConnections;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -538,6 +568,7 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 */
 	public WANCommonInterfaceConfig withNumberOfActiveConnections(Long numberOfActiveConnections) {
 		this.numberOfActiveConnections = numberOfActiveConnections;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -547,10 +578,20 @@ For example, if the physical interface is 100BaseT, this value would be 10000000
 	 * @return the value
 	 */
 	public Collection<Connection> getConnections() {
-		if (this.connections == null){ this.connections=new ArrayList<>();}
+		if (!(this.connections instanceof InstanceTable)){ this.connections=InstanceTable.of(this.connections);}
 		return connections;
 	}
 
+	/**
+	 * Get active connection table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Connection> viewConnections() {
+		return connections == null ? Collections.emptyList() : connections;
+	}
+
 	/**
 	 * Set active connection table.
 	 *
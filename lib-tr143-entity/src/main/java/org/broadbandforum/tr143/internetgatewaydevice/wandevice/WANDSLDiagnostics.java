@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is to provide diagnostic information for a CPE with an ADSL2 or ADSL2+ modem WAN interface, but MAY also be used for ADSL.
@@ -135,6 +136,11 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	@CWMPParameter(activeNotify = "canDeny")
 	public Integer gaiNSpsds;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANDSLDiagnostics() {
 	}
 
@@ -181,6 +187,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setLoopDiagnosticsState(String loopDiagnosticsState) {
 		this.loopDiagnosticsState = loopDiagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -204,6 +211,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withLoopDiagnosticsState(String loopDiagnosticsState) {
 		this.loopDiagnosticsState = loopDiagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -225,6 +233,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setActPSDds(Integer actPSDds) {
 		this.actPSDds = actPSDds;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -236,6 +245,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withActPSDds(Integer actPSDds) {
 		this.actPSDds = actPSDds;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -257,6 +267,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setActPSDus(Integer actPSDus) {
 		this.actPSDus = actPSDus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -268,6 +279,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withActPSDus(Integer actPSDus) {
 		this.actPSDus = actPSDus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -289,6 +301,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setActATPds(Integer actATPds) {
 		this.actATPds = actATPds;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -300,6 +313,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withActATPds(Integer actATPds) {
 		this.actATPds = actATPds;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -321,6 +335,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setActATPus(Integer actATPus) {
 		this.actATPus = actATPus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -332,6 +347,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withActATPus(Integer actATPus) {
 		this.actATPus = actATPus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -353,6 +369,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setHliNSCds(Integer hliNSCds) {
 		this.hliNSCds = hliNSCds;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -364,6 +381,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withHliNSCds(Integer hliNSCds) {
 		this.hliNSCds = hliNSCds;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -385,6 +403,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setHliNpsds(Integer hliNpsds) {
 		this.hliNpsds = hliNpsds;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -396,6 +415,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withHliNpsds(Integer hliNpsds) {
 		this.hliNpsds = hliNpsds;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -417,6 +437,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -428,6 +449,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -449,6 +471,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -460,6 +483,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -481,6 +505,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setBitSpsds(Integer bitSpsds) {
 		this.bitSpsds = bitSpsds;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -492,6 +517,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withBitSpsds(Integer bitSpsds) {
 		this.bitSpsds = bitSpsds;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -513,6 +539,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public void  setGaiNSpsds(Integer gaiNSpsds) {
 		this.gaiNSpsds = gaiNSpsds;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -524,6 +551,7 @@ After the diagnostic is complete, the value of all result parameters (all read-o
 	 */
 	public WANDSLDiagnostics withGaiNSpsds(Integer gaiNSpsds) {
 		this.gaiNSpsds = gaiNSpsds;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr143.internetgatewaydevice.wandevice.wandslinterfaceconfig.Stats;
 
 	/**
@@ -287,6 +288,11 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANDSLInterfaceConfig() {
 	}
 
@@ -309,6 +315,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -320,6 +327,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public WANDSLInterfaceConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -345,6 +353,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -358,6 +367,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -379,6 +389,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -390,6 +401,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -411,6 +423,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setLineEncoding(String lineEncoding) {
 		this.lineEncoding = lineEncoding;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -422,6 +435,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withLineEncoding(String lineEncoding) {
 		this.lineEncoding = lineEncoding;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -443,6 +457,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDataPath(String dataPath) {
 		this.dataPath = dataPath;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -454,6 +469,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withDataPath(String dataPath) {
 		this.dataPath = dataPath;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -475,6 +491,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setInterleaveDepth(Long interleaveDepth) {
 		this.interleaveDepth = interleaveDepth;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -486,6 +503,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withInterleaveDepth(Long interleaveDepth) {
 		this.interleaveDepth = interleaveDepth;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -507,6 +525,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setLineNumber(Integer lineNumber) {
 		this.lineNumber = lineNumber;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -518,6 +537,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withLineNumber(Integer lineNumber) {
 		this.lineNumber = lineNumber;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -539,6 +559,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setUpstreamCurrRate(Long upstreamCurrRate) {
 		this.upstreamCurrRate = upstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -550,6 +571,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withUpstreamCurrRate(Long upstreamCurrRate) {
 		this.upstreamCurrRate = upstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -571,6 +593,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDownstreamCurrRate(Long downstreamCurrRate) {
 		this.downstreamCurrRate = downstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -582,6 +605,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withDownstreamCurrRate(Long downstreamCurrRate) {
 		this.downstreamCurrRate = downstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -603,6 +627,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setUpstreamMaxRate(Long upstreamMaxRate) {
 		this.upstreamMaxRate = upstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -614,6 +639,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withUpstreamMaxRate(Long upstreamMaxRate) {
 		this.upstreamMaxRate = upstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -635,6 +661,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDownstreamMaxRate(Long downstreamMaxRate) {
 		this.downstreamMaxRate = downstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -646,6 +673,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withDownstreamMaxRate(Long downstreamMaxRate) {
 		this.downstreamMaxRate = downstreamMaxRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -667,6 +695,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setUpstreamNoiseMargin(Integer upstreamNoiseMargin) {
 		this.upstreamNoiseMargin = upstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -678,6 +707,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withUpstreamNoiseMargin(Integer upstreamNoiseMargin) {
 		this.upstreamNoiseMargin = upstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -699,6 +729,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDownstreamNoiseMargin(Integer downstreamNoiseMargin) {
 		this.downstreamNoiseMargin = downstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -710,6 +741,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withDownstreamNoiseMargin(Integer downstreamNoiseMargin) {
 		this.downstreamNoiseMargin = downstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -731,6 +763,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setUpstreamAttenuation(Integer upstreamAttenuation) {
 		this.upstreamAttenuation = upstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -742,6 +775,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withUpstreamAttenuation(Integer upstreamAttenuation) {
 		this.upstreamAttenuation = upstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -763,6 +797,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDownstreamAttenuation(Integer downstreamAttenuation) {
 		this.downstreamAttenuation = downstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -774,6 +809,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withDownstreamAttenuation(Integer downstreamAttenuation) {
 		this.downstreamAttenuation = downstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -795,6 +831,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setUpstreamPower(Integer upstreamPower) {
 		this.upstreamPower = upstreamPower;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -806,6 +843,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withUpstreamPower(Integer upstreamPower) {
 		this.upstreamPower = upstreamPower;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -827,6 +865,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setDownstreamPower(Integer downstreamPower) {
 		this.downstreamPower = downstreamPower;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -838,6 +877,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withDownstreamPower(Integer downstreamPower) {
 		this.downstreamPower = downstreamPower;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -859,6 +899,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuRVendor(String atuRVendor) {
 		this.atuRVendor = atuRVendor;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -870,6 +911,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuRVendor(String atuRVendor) {
 		this.atuRVendor = atuRVendor;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -891,6 +933,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuRCountry(String atuRCountry) {
 		this.atuRCountry = atuRCountry;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -902,6 +945,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuRCountry(String atuRCountry) {
 		this.atuRCountry = atuRCountry;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -923,6 +967,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuRANSIStd(Long atuRANSIStd) {
 		this.atuRANSIStd = atuRANSIStd;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -934,6 +979,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuRANSIStd(Long atuRANSIStd) {
 		this.atuRANSIStd = atuRANSIStd;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -955,6 +1001,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuRANSIRev(Long atuRANSIRev) {
 		this.atuRANSIRev = atuRANSIRev;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -966,6 +1013,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuRANSIRev(Long atuRANSIRev) {
 		this.atuRANSIRev = atuRANSIRev;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -987,6 +1035,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuCVendor(String atuCVendor) {
 		this.atuCVendor = atuCVendor;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -998,6 +1047,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuCVendor(String atuCVendor) {
 		this.atuCVendor = atuCVendor;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1019,6 +1069,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuCCountry(String atuCCountry) {
 		this.atuCCountry = atuCCountry;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1030,6 +1081,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuCCountry(String atuCCountry) {
 		this.atuCCountry = atuCCountry;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1051,6 +1103,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuCANSIStd(Long atuCANSIStd) {
 		this.atuCANSIStd = atuCANSIStd;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1062,6 +1115,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuCANSIStd(Long atuCANSIStd) {
 		this.atuCANSIStd = atuCANSIStd;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1083,6 +1137,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public void  setAtuCANSIRev(Long atuCANSIRev) {
 		this.atuCANSIRev = atuCANSIRev;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1094,6 +1149,7 @@ The {{enum|Error}} value MAY be used by the CPE to indicate a locally defined er
 	 */
 	public WANDSLInterfaceConfig withAtuCANSIRev(Long atuCANSIRev) {
 		this.atuCANSIRev = atuCANSIRev;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1119,6 +1175,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public void  setTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1132,6 +1189,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public WANDSLInterfaceConfig withTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1153,6 +1211,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public void  setShowtimeStart(Long showtimeStart) {
 		this.showtimeStart = showtimeStart;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1164,6 +1223,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public WANDSLInterfaceConfig withShowtimeStart(Long showtimeStart) {
 		this.showtimeStart = showtimeStart;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1189,6 +1249,7 @@ If the CPE has not retained information about the second most recent Showtime (e
 	 */
 	public void  setLastShowtimeStart(Long lastShowtimeStart) {
 		this.lastShowtimeStart = lastShowtimeStart;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1202,6 +1263,7 @@ If the CPE has not retained information about the second most recent Showtime (e
 	 */
 	public WANDSLInterfaceConfig withLastShowtimeStart(Long lastShowtimeStart) {
 		this.lastShowtimeStart = lastShowtimeStart;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1231,6 +1293,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public void  setCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1246,6 +1309,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public WANDSLInterfaceConfig withCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1275,6 +1339,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public void  setQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1290,6 +1355,7 @@ Statistics SHOULD continue to be accumulated across CPE reboots, though this mig
 	 */
 	public WANDSLInterfaceConfig withQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is provides access to an ATM-layer F5 OAM loopback test.
@@ -120,6 +121,11 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long maximumResponseTime = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANATMF5LoopbackDiagnostics() {
 	}
 
@@ -178,6 +184,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -207,6 +214,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -228,6 +236,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -239,6 +248,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +270,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -271,6 +282,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -292,6 +304,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -303,6 +316,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -324,6 +338,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -335,6 +350,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -356,6 +372,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -367,6 +384,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -388,6 +406,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -399,6 +418,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -420,6 +440,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -431,6 +452,7 @@ While the test is in progress, setting this parameter to {{enum|Requested}} (and
 	 */
 	public WANATMF5LoopbackDiagnostics withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectionde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object models the ATM layer properties specific to a single physical connection of a DSL modem used for Internet access on a CPE.  This object is intended for a CPE with a DSL modem WAN interface, and is exclusive of any other ''WAN*LinkConfig'' object within a given ''WANConnectionDevice'' instance.
@@ -209,6 +211,11 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long atmHECErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANDSLLinkConfig() {
 	}
 
@@ -231,6 +238,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -242,6 +250,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public WANDSLLinkConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -263,6 +272,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public void  setLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -274,6 +284,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public WANDSLLinkConfig withLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -299,6 +310,7 @@ The value ''PPPoE'' has always been DEPRECATED and ''EoA'' should be used instea
 	 */
 	public void  setLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -312,6 +324,7 @@ The value ''PPPoE'' has always been DEPRECATED and ''EoA'' should be used instea
 	 */
 	public WANDSLLinkConfig withLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -333,6 +346,7 @@ The value ''PPPoE'' has always been DEPRECATED and ''EoA'' should be used instea
 	 */
 	public void  setAutoConfig(Boolean autoConfig) {
 		this.autoConfig = autoConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -344,6 +358,7 @@ The value ''PPPoE'' has always been DEPRECATED and ''EoA'' should be used instea
 	 */
 	public WANDSLLinkConfig withAutoConfig(Boolean autoConfig) {
 		this.autoConfig = autoConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -365,6 +380,7 @@ The value ''PPPoE'' has always been DEPRECATED and ''EoA'' should be used instea
 	 */
 	public void  setModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -376,6 +392,7 @@ The value ''PPPoE'' has always been DEPRECATED and ''EoA'' should be used instea
 	 */
 	public WANDSLLinkConfig withModulationType(String modulationType) {
 		this.modulationType = modulationType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -413,6 +430,7 @@ The "PVC:" or "SVC:" prefix is part of the parameter value and MUST be followed
 	 */
 	public void  setDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -432,6 +450,7 @@ The "PVC:" or "SVC:" prefix is part of the parameter value and MUST be followed
 	 */
 	public WANDSLLinkConfig withDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -453,6 +472,7 @@ The "PVC:" or "SVC:" prefix is part of the parameter value and MUST be followed
 	 */
 	public void  setAtmEncapsulation(String atmEncapsulation) {
 		this.atmEncapsulation = atmEncapsulation;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -464,6 +484,7 @@ The "PVC:" or "SVC:" prefix is part of the parameter value and MUST be followed
 	 */
 	public WANDSLLinkConfig withAtmEncapsulation(String atmEncapsulation) {
 		this.atmEncapsulation = atmEncapsulation;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -485,6 +506,7 @@ The "PVC:" or "SVC:" prefix is part of the parameter value and MUST be followed
 	 */
 	public void  setFcsPreserved(Boolean fcsPreserved) {
 		this.fcsPreserved = fcsPreserved;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -496,6 +518,7 @@ The "PVC:" or "SVC:" prefix is part of the parameter value and MUST be followed
 	 */
 	public WANDSLLinkConfig withFcsPreserved(Boolean fcsPreserved) {
 		this.fcsPreserved = fcsPreserved;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -516,6 +539,23 @@ Example:
 		return vcsearchList;
 	}
 
+	/**
+	 * Read the comma separated ordered list of VPI/VCI pairs to search if a link using the {{param|DestinationAddress}} cannot be established.  In the form:
+
+: ''VPI1/VCI1, VPI2/VCI2, ...''
+
+Example:
+
+: ''0/35, 8/35, 1/35''
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVcsearchList() {
+		return vcsearchList == null ? Collections.emptyList() : vcsearchList;
+	}
+
 	/**
 	 * Set the comma separated ordered list of VPI/VCI pairs to search if a link using the {{param|DestinationAddress}} cannot be established.  In the form:
 
@@ -530,6 +570,7 @@ Example:
 	 */
 	public void  setVcsearchList(Collection<String> vcsearchList) {
 		this.vcsearchList = vcsearchList;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -547,6 +588,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withVcsearchList(String string) {
 		getVcsearchList().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -568,6 +610,7 @@ Example:
 	 */
 	public void  setAtmAAL(String atmAAL) {
 		this.atmAAL = atmAAL;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -579,6 +622,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmAAL(String atmAAL) {
 		this.atmAAL = atmAAL;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -600,6 +644,7 @@ Example:
 	 */
 	public void  setAtmTransmittedBlocks(Long atmTransmittedBlocks) {
 		this.atmTransmittedBlocks = atmTransmittedBlocks;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -611,6 +656,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmTransmittedBlocks(Long atmTransmittedBlocks) {
 		this.atmTransmittedBlocks = atmTransmittedBlocks;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -632,6 +678,7 @@ Example:
 	 */
 	public void  setAtmReceivedBlocks(Long atmReceivedBlocks) {
 		this.atmReceivedBlocks = atmReceivedBlocks;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -643,6 +690,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmReceivedBlocks(Long atmReceivedBlocks) {
 		this.atmReceivedBlocks = atmReceivedBlocks;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -664,6 +712,7 @@ Example:
 	 */
 	public void  setAtmQoS(String atmQoS) {
 		this.atmQoS = atmQoS;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -675,6 +724,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmQoS(String atmQoS) {
 		this.atmQoS = atmQoS;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -696,6 +746,7 @@ Example:
 	 */
 	public void  setAtmPeakCellRate(Long atmPeakCellRate) {
 		this.atmPeakCellRate = atmPeakCellRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -707,6 +758,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmPeakCellRate(Long atmPeakCellRate) {
 		this.atmPeakCellRate = atmPeakCellRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -728,6 +780,7 @@ Example:
 	 */
 	public void  setAtmMaximumBurstSize(Long atmMaximumBurstSize) {
 		this.atmMaximumBurstSize = atmMaximumBurstSize;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -739,6 +792,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmMaximumBurstSize(Long atmMaximumBurstSize) {
 		this.atmMaximumBurstSize = atmMaximumBurstSize;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -760,6 +814,7 @@ Example:
 	 */
 	public void  setAtmSustainableCellRate(Long atmSustainableCellRate) {
 		this.atmSustainableCellRate = atmSustainableCellRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -771,6 +826,7 @@ Example:
 	 */
 	public WANDSLLinkConfig withAtmSustainableCellRate(Long atmSustainableCellRate) {
 		this.atmSustainableCellRate = atmSustainableCellRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -796,6 +852,7 @@ This parameter is DEPRECATED because it overlaps with the {{param|ATMCRCErrors}}
 	 */
 	public void  setAal5CRCErrors(Long aal5CRCErrors) {
 		this.aal5CRCErrors = aal5CRCErrors;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -809,6 +866,7 @@ This parameter is DEPRECATED because it overlaps with the {{param|ATMCRCErrors}}
 	 */
 	public WANDSLLinkConfig withAal5CRCErrors(Long aal5CRCErrors) {
 		this.aal5CRCErrors = aal5CRCErrors;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -834,6 +892,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public void  setAtmCRCErrors(Long atmCRCErrors) {
 		this.atmCRCErrors = atmCRCErrors;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -847,6 +906,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public WANDSLLinkConfig withAtmCRCErrors(Long atmCRCErrors) {
 		this.atmCRCErrors = atmCRCErrors;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -868,6 +928,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public void  setAtmHECErrors(Long atmHECErrors) {
 		this.atmHECErrors = atmHECErrors;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -879,6 +940,7 @@ This refers to CRC errors at the ATM adaptation layer (AAL). The AAL in use is i
 	 */
 	public WANDSLLinkConfig withAtmHECErrors(Long atmHECErrors) {
 		this.atmHECErrors = atmHECErrors;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
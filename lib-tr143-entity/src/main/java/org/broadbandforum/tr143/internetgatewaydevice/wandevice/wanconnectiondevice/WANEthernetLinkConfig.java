@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object models the Ethernet link layer properties specific to a single physical connection used for Internet access on a CPE.  This object is intended for a CPE with an Ethernet WAN interface, and is exclusive of any other ''WAN*LinkConfig'' object within a given ''WANConnectionDevice'' instance.  Note that this object is not related to the Ethernet protocol layer sometimes used in associated with a DSL connection.
@@ -41,6 +42,11 @@ public class WANEthernetLinkConfig {
 	@XmlElement(name = "EthernetLinkStatus")
 	public String ethernetLinkStatus;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANEthernetLinkConfig() {
 	}
 
@@ -63,6 +69,7 @@ public class WANEthernetLinkConfig {
 	 */
 	public void  setEthernetLinkStatus(String ethernetLinkStatus) {
 		this.ethernetLinkStatus = ethernetLinkStatus;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -74,6 +81,7 @@ public class WANEthernetLinkConfig {
 	 */
 	public WANEthernetLinkConfig withEthernetLinkStatus(String ethernetLinkStatus) {
 		this.ethernetLinkStatus = ethernetLinkStatus;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectionde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +29,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectiondevice.wanipconnection.PortMapping;
 import org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectiondevice.wanipconnection.Stats;
@@ -291,6 +294,16 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public WANIPConnection() {
 	}
 
@@ -313,6 +326,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -324,6 +338,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -345,6 +360,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -356,6 +372,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -370,6 +387,17 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 		return possibleConnectionTypes;
 	}
 
+	/**
+	 * Read the types of connections possible for this connection instance.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleConnectionTypes() {
+		return possibleConnectionTypes == null ? Collections.emptyList() : possibleConnectionTypes;
+	}
+
 	/**
 	 * Set the types of connections possible for this connection instance.
 	 *
@@ -378,6 +406,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setPossibleConnectionTypes(Collection<String> possibleConnectionTypes) {
 		this.possibleConnectionTypes = possibleConnectionTypes;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -389,6 +418,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withPossibleConnectionTypes(String string) {
 		getPossibleConnectionTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -410,6 +440,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -421,6 +452,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -442,6 +474,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -453,6 +486,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -474,6 +508,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -485,6 +520,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -506,6 +542,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -517,6 +554,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -538,6 +576,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -549,6 +588,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -570,6 +610,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -581,6 +622,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -602,6 +644,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -613,6 +656,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -634,6 +678,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -645,6 +690,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -666,6 +712,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -677,6 +724,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -698,6 +746,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -709,6 +758,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -730,6 +780,8 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -741,6 +793,8 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -762,6 +816,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -773,6 +828,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withSubnetMask(IPAddress subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -794,6 +850,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setDefaultGateway(String defaultGateway) {
 		this.defaultGateway = defaultGateway;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -805,6 +862,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withDefaultGateway(String defaultGateway) {
 		this.defaultGateway = defaultGateway;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -826,6 +884,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -837,6 +896,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -858,6 +918,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -869,6 +930,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -890,6 +952,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -901,6 +964,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -922,6 +986,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setMaxMTUSize(Long maxMTUSize) {
 		this.maxMTUSize = maxMTUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -933,6 +998,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withMaxMTUSize(Long maxMTUSize) {
 		this.maxMTUSize = maxMTUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -954,6 +1020,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -965,6 +1032,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -986,6 +1054,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -997,6 +1066,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANIPConnection withMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1042,6 +1112,7 @@ Note also that the means by which a CPE would keep an IP connection disconnected
 	 */
 	public void  setConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1065,6 +1136,7 @@ Note also that the means by which a CPE would keep an IP connection disconnected
 	 */
 	public WANIPConnection withConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1086,6 +1158,7 @@ Note also that the means by which a CPE would keep an IP connection disconnected
 	 */
 	public void  setRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1097,6 +1170,7 @@ Note also that the means by which a CPE would keep an IP connection disconnected
 	 */
 	public WANIPConnection withRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1130,6 +1204,7 @@ A value of -1 indicates no shaping.
 	 */
 	public void  setShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1147,6 +1222,7 @@ A value of -1 indicates no shaping.
 	 */
 	public WANIPConnection withShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1168,6 +1244,7 @@ A value of -1 indicates no shaping.
 	 */
 	public void  setShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1179,6 +1256,7 @@ A value of -1 indicates no shaping.
 	 */
 	public WANIPConnection withShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1194,10 +1272,26 @@ At most one entry in an instance of this table can exist with all of the same va
 	 * @return the value
 	 */
 	public Collection<PortMapping> getPortMappings() {
-		if (this.portMappings == null){ this.portMappings=new ArrayList<>();}
+		if (!(this.portMappings instanceof InstanceTable)){ this.portMappings=InstanceTable.of(this.portMappings);}
 		return portMappings;
 	}
 
+	/**
+	 * Read the port mapping table.
+
+This table MUST contain all NAT port mappings associated with this connection, including static and dynamic port mappings programmatically created via local control protocol, such as UPnP.
+
+This table MUST NOT contain dynamic NAT binding entries associated with the normal operation of NAT.
+
+At most one entry in an instance of this table can exist with all of the same values for {{param|RemoteHost}}, {{param|ExternalPort}}, and {{param|PortMappingProtocol}}.  If the ACS attempts to set the parameters of an existing entry such that this requirement would be violated, the CPE MUST reject the request.  In this case, the SetParameterValues response MUST include a SetParameterValuesFault element for each parameter in the corresponding request whose modification would have resulted in such a violation.  On creation of a new table entry, the CPE MUST choose default values for {{param|ExternalPort}} and {{param|PortMappingProtocol}} such that the new entry does not conflict with any existing entry.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PortMapping> viewPortMappings() {
+		return portMappings == null ? Collections.emptyList() : portMappings;
+	}
+
 	/**
 	 * Set the port mapping table.
 
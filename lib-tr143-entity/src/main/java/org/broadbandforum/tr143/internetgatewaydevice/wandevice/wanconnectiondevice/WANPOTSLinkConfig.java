@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectionde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object models the POTS link layer properties specific to a single physical connection used for Internet access on a CPE.  This object is intended for a CPE with a POTS WAN interface, and is exclusive of any other ''WAN*LinkConfig'' object within a given ''WANConnectionDevice'' instance.
@@ -132,6 +134,11 @@ public class WANPOTSLinkConfig {
 	@XmlElement(name = "PlusVTRCommandSupported")
 	public Boolean plusVTRCommandSupported;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WANPOTSLinkConfig() {
 	}
 
@@ -154,6 +161,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +173,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -186,6 +195,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -197,6 +207,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -218,6 +229,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setIspPhoneNumber(String ispPhoneNumber) {
 		this.ispPhoneNumber = ispPhoneNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +241,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withIspPhoneNumber(String ispPhoneNumber) {
 		this.ispPhoneNumber = ispPhoneNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -250,6 +263,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setIspInfo(String ispInfo) {
 		this.ispInfo = ispInfo;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +275,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withIspInfo(String ispInfo) {
 		this.ispInfo = ispInfo;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +297,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +309,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +331,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setNumberOfRetries(Long numberOfRetries) {
 		this.numberOfRetries = numberOfRetries;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +343,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withNumberOfRetries(Long numberOfRetries) {
 		this.numberOfRetries = numberOfRetries;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -346,6 +365,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setDelayBetweenRetries(Long delayBetweenRetries) {
 		this.delayBetweenRetries = delayBetweenRetries;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -357,6 +377,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withDelayBetweenRetries(Long delayBetweenRetries) {
 		this.delayBetweenRetries = delayBetweenRetries;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -371,6 +392,17 @@ public class WANPOTSLinkConfig {
 		return fclass;
 	}
 
+	/**
+	 * Read the specifies capabilities of the POTS modem - i.e., if it handles data ({{enum|0}}), fax ({{enum|1}},{{enum|2}},{{enum|2.0}}), voice ({{enum|8}}), DSVD ({{enum|80}}).
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFclass() {
+		return fclass == null ? Collections.emptyList() : fclass;
+	}
+
 	/**
 	 * Set the specifies capabilities of the POTS modem - i.e., if it handles data ({{enum|0}}), fax ({{enum|1}},{{enum|2}},{{enum|2.0}}), voice ({{enum|8}}), DSVD ({{enum|80}}).
 	 *
@@ -379,6 +411,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setFclass(Collection<String> fclass) {
 		this.fclass = fclass;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -390,6 +423,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withFclass(String string) {
 		getFclass().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -411,6 +445,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setDataModulationSupported(String dataModulationSupported) {
 		this.dataModulationSupported = dataModulationSupported;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -422,6 +457,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withDataModulationSupported(String dataModulationSupported) {
 		this.dataModulationSupported = dataModulationSupported;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -443,6 +479,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setDataProtocol(String dataProtocol) {
 		this.dataProtocol = dataProtocol;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -454,6 +491,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withDataProtocol(String dataProtocol) {
 		this.dataProtocol = dataProtocol;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -475,6 +513,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setDataCompression(String dataCompression) {
 		this.dataCompression = dataCompression;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -486,6 +525,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withDataCompression(String dataCompression) {
 		this.dataCompression = dataCompression;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -507,6 +547,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public void  setPlusVTRCommandSupported(Boolean plusVTRCommandSupported) {
 		this.plusVTRCommandSupported = plusVTRCommandSupported;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -518,6 +559,7 @@ public class WANPOTSLinkConfig {
 	 */
 	public WANPOTSLinkConfig withPlusVTRCommandSupported(Boolean plusVTRCommandSupported) {
 		this.plusVTRCommandSupported = plusVTRCommandSupported;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectionde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +29,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectiondevice.wanpppconnection.PortMapping;
 import org.broadbandforum.tr143.internetgatewaydevice.wandevice.wanconnectiondevice.wanpppconnection.Stats;
@@ -362,6 +365,16 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public WANPPPConnection() {
 	}
 
@@ -384,6 +397,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -395,6 +409,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -416,6 +431,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -427,6 +443,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -441,6 +458,17 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 		return possibleConnectionTypes;
 	}
 
+	/**
+	 * Read the types of connections possible for this connection instance.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleConnectionTypes() {
+		return possibleConnectionTypes == null ? Collections.emptyList() : possibleConnectionTypes;
+	}
+
 	/**
 	 * Set the types of connections possible for this connection instance.
 	 *
@@ -449,6 +477,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setPossibleConnectionTypes(Collection<String> possibleConnectionTypes) {
 		this.possibleConnectionTypes = possibleConnectionTypes;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -460,6 +489,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withPossibleConnectionTypes(String string) {
 		getPossibleConnectionTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -481,6 +511,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -492,6 +523,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -513,6 +545,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -524,6 +557,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -545,6 +579,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -556,6 +591,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -577,6 +613,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -588,6 +625,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -609,6 +647,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -620,6 +659,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -641,6 +681,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -652,6 +693,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -673,6 +715,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -684,6 +727,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -705,6 +749,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -716,6 +761,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withRsiPAvailable(Boolean rsiPAvailable) {
 		this.rsiPAvailable = rsiPAvailable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -737,6 +783,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -748,6 +795,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withNatEnabled(Boolean natEnabled) {
 		this.natEnabled = natEnabled;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -769,6 +817,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -780,6 +829,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -801,6 +851,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -812,6 +863,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -833,6 +885,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setPppEncryptionProtocol(String pppEncryptionProtocol) {
 		this.pppEncryptionProtocol = pppEncryptionProtocol;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -844,6 +897,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withPppEncryptionProtocol(String pppEncryptionProtocol) {
 		this.pppEncryptionProtocol = pppEncryptionProtocol;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -865,6 +919,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setPppCompressionProtocol(String pppCompressionProtocol) {
 		this.pppCompressionProtocol = pppCompressionProtocol;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -876,6 +931,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withPppCompressionProtocol(String pppCompressionProtocol) {
 		this.pppCompressionProtocol = pppCompressionProtocol;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -897,6 +953,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setPppAuthenticationProtocol(String pppAuthenticationProtocol) {
 		this.pppAuthenticationProtocol = pppAuthenticationProtocol;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -908,6 +965,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withPppAuthenticationProtocol(String pppAuthenticationProtocol) {
 		this.pppAuthenticationProtocol = pppAuthenticationProtocol;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -929,6 +987,8 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(17);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -940,6 +1000,8 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(17);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -961,6 +1023,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setRemoteIPAddress(IPAddress remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -972,6 +1035,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withRemoteIPAddress(IPAddress remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -993,6 +1057,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setMaxMRUSize(Long maxMRUSize) {
 		this.maxMRUSize = maxMRUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1004,6 +1069,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withMaxMRUSize(Long maxMRUSize) {
 		this.maxMRUSize = maxMRUSize;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1025,6 +1091,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setCurrentMRUSize(Long currentMRUSize) {
 		this.currentMRUSize = currentMRUSize;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1036,6 +1103,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withCurrentMRUSize(Long currentMRUSize) {
 		this.currentMRUSize = currentMRUSize;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1057,6 +1125,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1068,6 +1137,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withDnsEnabled(Boolean dnsEnabled) {
 		this.dnsEnabled = dnsEnabled;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1089,6 +1159,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1100,6 +1171,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withDnsOverrideAllowed(Boolean dnsOverrideAllowed) {
 		this.dnsOverrideAllowed = dnsOverrideAllowed;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1121,6 +1193,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public void  setDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1132,6 +1205,7 @@ This object is intended only for ''WANConnectionDevice''s that can support an Et
 	 */
 	public WANPPPConnection withDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1157,6 +1231,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1170,6 +1245,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public WANPPPConnection withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1195,6 +1271,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public void  setMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1208,6 +1285,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public WANPPPConnection withMacAddressOverride(Boolean macAddressOverride) {
 		this.macAddressOverride = macAddressOverride;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1229,6 +1307,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public void  setTransportType(String transportType) {
 		this.transportType = transportType;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1240,6 +1319,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public WANPPPConnection withTransportType(String transportType) {
 		this.transportType = transportType;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1261,6 +1341,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public void  setPppoEACName(String pppoEACName) {
 		this.pppoEACName = pppoEACName;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1272,6 +1353,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public WANPPPConnection withPppoEACName(String pppoEACName) {
 		this.pppoEACName = pppoEACName;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1293,6 +1375,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public void  setPppoEServiceName(String pppoEServiceName) {
 		this.pppoEServiceName = pppoEServiceName;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1304,6 +1387,7 @@ If {{param|TransportType}} is {{enum|PPPoA|TransportType}}, the value of this pa
 	 */
 	public WANPPPConnection withPppoEServiceName(String pppoEServiceName) {
 		this.pppoEServiceName = pppoEServiceName;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1345,6 +1429,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public void  setConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1366,6 +1451,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public WANPPPConnection withConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1387,6 +1473,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public void  setRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1398,6 +1485,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public WANPPPConnection withRouteProtocolRx(String routeProtocolRx) {
 		this.routeProtocolRx = routeProtocolRx;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1419,6 +1507,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public void  setPppLCPEcho(Long pppLCPEcho) {
 		this.pppLCPEcho = pppLCPEcho;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1430,6 +1519,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public WANPPPConnection withPppLCPEcho(Long pppLCPEcho) {
 		this.pppLCPEcho = pppLCPEcho;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1451,6 +1541,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public void  setPppLCPEchoRetry(Long pppLCPEchoRetry) {
 		this.pppLCPEchoRetry = pppLCPEchoRetry;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1462,6 +1553,7 @@ Note that the reason for a PPP connection becoming disconnected to begin with mi
 	 */
 	public WANPPPConnection withPppLCPEchoRetry(Long pppLCPEchoRetry) {
 		this.pppLCPEchoRetry = pppLCPEchoRetry;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1495,6 +1587,7 @@ A value of -1 indicates no shaping.
 	 */
 	public void  setShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -1512,6 +1605,7 @@ A value of -1 indicates no shaping.
 	 */
 	public WANPPPConnection withShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -1533,6 +1627,7 @@ A value of -1 indicates no shaping.
 	 */
 	public void  setShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -1544,6 +1639,7 @@ A value of -1 indicates no shaping.
 	 */
 	public WANPPPConnection withShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -1559,10 +1655,26 @@ At most one entry in an instance of this table can exist with all of the same va
 	 * @return the value
 	 */
 	public Collection<PortMapping> getPortMappings() {
-		if (this.portMappings == null){ this.portMappings=new ArrayList<>();}
+		if (!(this.portMappings instanceof InstanceTable)){ this.portMappings=InstanceTable.of(this.portMappings);}
 		return portMappings;
 	}
 
+	/**
+	 * Read the port mapping table.
+
+This table MUST contain all NAT port mappings associated with this connection, including static and dynamic port mappings programmatically created via local control protocol, such as UPnP.
+
+This table MUST NOT contain dynamic NAT binding entries associated with the normal operation of NAT.
+
+At most one entry in an instance of this table can exist with all of the same values for {{param|RemoteHost}}, {{param|ExternalPort}}, and {{param|PortMappingProtocol}}.  If the ACS attempts to set the parameters of an existing entry such that this requirement would be violated, the CPE MUST reject the request.  In this case, the SetParameterValues response MUST include a SetParameterValuesFault element for each parameter in the corresponding request whose modification would have resulted in such a violation.  On creation of a new table entry, the CPE MUST choose default values for {{param|ExternalPort}} and {{param|PortMappingProtocol}} such that the new entry does not conflict with any existing entry.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PortMapping> viewPortMappings() {
+		return portMappings == null ? Collections.emptyList() : portMappings;
+	}
+
 	/**
 	 * Set the port mapping table.
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Port mapping table.
@@ -161,6 +163,16 @@ It MUST be possible to set the {{param}} to the broadcast IP address 255.255.255
 	@Size(max = 256)
 	public String portMappingDescription;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PortMapping() {
 	}
 
@@ -183,6 +195,7 @@ It MUST be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public void  setPortMappingEnabled(Boolean portMappingEnabled) {
 		this.portMappingEnabled = portMappingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -194,6 +207,7 @@ It MUST be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public PortMapping withPortMappingEnabled(Boolean portMappingEnabled) {
 		this.portMappingEnabled = portMappingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -223,6 +237,7 @@ For a dynamic (non-static) port mapping, when this parameter is read, the value
 	 */
 	public void  setPortMappingLeaseDuration(Long portMappingLeaseDuration) {
 		this.portMappingLeaseDuration = portMappingLeaseDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -238,6 +253,7 @@ For a dynamic (non-static) port mapping, when this parameter is read, the value
 	 */
 	public PortMapping withPortMappingLeaseDuration(Long portMappingLeaseDuration) {
 		this.portMappingLeaseDuration = portMappingLeaseDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -299,6 +315,8 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public void  setRemoteHost(String remoteHost) {
 		this.remoteHost = remoteHost;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -330,6 +348,8 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public PortMapping withRemoteHost(String remoteHost) {
 		this.remoteHost = remoteHost;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -383,6 +403,8 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public void  setExternalPort(Long externalPort) {
 		this.externalPort = externalPort;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -410,6 +432,8 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public PortMapping withExternalPort(Long externalPort) {
 		this.externalPort = externalPort;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -431,6 +455,7 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public void  setInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -442,6 +467,7 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public PortMapping withInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -467,6 +493,8 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public void  setPortMappingProtocol(String portMappingProtocol) {
 		this.portMappingProtocol = portMappingProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -480,6 +508,8 @@ At most one entry in this table can exist with all of the same values for {{para
 	 */
 	public PortMapping withPortMappingProtocol(String portMappingProtocol) {
 		this.portMappingProtocol = portMappingProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -521,6 +551,7 @@ It MUST be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public void  setInternalClient(String internalClient) {
 		this.internalClient = internalClient;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -542,6 +573,7 @@ It MUST be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public PortMapping withInternalClient(String internalClient) {
 		this.internalClient = internalClient;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -563,6 +595,7 @@ It MUST be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public void  setPortMappingDescription(String portMappingDescription) {
 		this.portMappingDescription = portMappingDescription;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -574,6 +607,7 @@ It MUST be possible to set the {{param}} to the broadcast IP address 255.255.255
 	 */
 	public PortMapping withPortMappingDescription(String portMappingDescription) {
 		this.portMappingDescription = portMappingDescription;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
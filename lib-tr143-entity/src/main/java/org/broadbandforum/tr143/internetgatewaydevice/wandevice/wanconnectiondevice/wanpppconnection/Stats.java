@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains statistics for all connections within the same ''WANConnectionDevice'' that share a common MAC address.  The contents of this object SHOULD be identical for each such connection.
@@ -69,6 +70,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long ethernetPacketsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -91,6 +97,7 @@ public class Stats {
 	 */
 	public void  setEthernetBytesSent(Long ethernetBytesSent) {
 		this.ethernetBytesSent = ethernetBytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -102,6 +109,7 @@ public class Stats {
 	 */
 	public Stats withEthernetBytesSent(Long ethernetBytesSent) {
 		this.ethernetBytesSent = ethernetBytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -123,6 +131,7 @@ public class Stats {
 	 */
 	public void  setEthernetBytesReceived(Long ethernetBytesReceived) {
 		this.ethernetBytesReceived = ethernetBytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -134,6 +143,7 @@ public class Stats {
 	 */
 	public Stats withEthernetBytesReceived(Long ethernetBytesReceived) {
 		this.ethernetBytesReceived = ethernetBytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -155,6 +165,7 @@ public class Stats {
 	 */
 	public void  setEthernetPacketsSent(Long ethernetPacketsSent) {
 		this.ethernetPacketsSent = ethernetPacketsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -166,6 +177,7 @@ public class Stats {
 	 */
 	public Stats withEthernetPacketsSent(Long ethernetPacketsSent) {
 		this.ethernetPacketsSent = ethernetPacketsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -187,6 +199,7 @@ public class Stats {
 	 */
 	public void  setEthernetPacketsReceived(Long ethernetPacketsReceived) {
 		this.ethernetPacketsReceived = ethernetPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -198,6 +211,7 @@ public class Stats {
 	 */
 	public Stats withEthernetPacketsReceived(Long ethernetPacketsReceived) {
 		this.ethernetPacketsReceived = ethernetPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains an entry for each connection service.
@@ -104,6 +106,16 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	@Size(max = 32)
 	public String name;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ConnectionService() {
 	}
 
@@ -130,6 +142,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public void  setWanConnectionDevice(String wanConnectionDevice) {
 		this.wanConnectionDevice = wanConnectionDevice;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -143,6 +156,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public ConnectionService withWanConnectionDevice(String wanConnectionDevice) {
 		this.wanConnectionDevice = wanConnectionDevice;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -168,6 +182,8 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public void  setWanConnectionService(String wanConnectionService) {
 		this.wanConnectionService = wanConnectionService;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -181,6 +197,8 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public ConnectionService withWanConnectionService(String wanConnectionService) {
 		this.wanConnectionService = wanConnectionService;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -222,6 +240,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public void  setDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -243,6 +262,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public ConnectionService withDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -268,6 +288,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public void  setLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -281,6 +302,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public ConnectionService withLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -306,6 +328,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -319,6 +342,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public ConnectionService withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -344,6 +368,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -357,6 +382,7 @@ This parameter is OBSOLETED because it is within an OBSOLETED object.
 	 */
 	public ConnectionService withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -16,8 +16,8 @@
 package org.broadbandforum.tr157.bulkdata;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,10 +25,15 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr157.bulkdata.profile.CSVEncoding;
 import org.broadbandforum.tr157.bulkdata.profile.HTTP;
 import org.broadbandforum.tr157.bulkdata.profile.JSONEncoding;
@@ -142,8 +147,9 @@ public class Profile {
 	 * @since 1.10
 	 */
 	@XmlElement(name = "TimeReference")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime timeReference = LocalDateTime.parse("0001-01-01T00:00:00Z");;
+	public LocalDateTime timeReference = CWMPDateTime.UNKNOWN_TIME;
 	/**
 	 * This is the host name or IP Address of the IPDR Collector to be used by the CPE to stream bulk data records if this collection profile is configured for the IPDR Streaming Protocol {{bibref|IPDR-SP}} (the {{param|Protocol}} parameter has a value of {{enum|Streaming|#.Protocols}}).
 	 *
@@ -252,6 +258,16 @@ public class Profile {
 	@XmlElement(name = "HTTP")
 	public HTTP httP;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Profile() {
 	}
 
@@ -278,6 +294,7 @@ public class Profile {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -291,6 +308,7 @@ public class Profile {
 	 */
 	public Profile withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -312,6 +330,8 @@ public class Profile {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -323,6 +343,8 @@ public class Profile {
 	 */
 	public Profile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -344,6 +366,7 @@ public class Profile {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -355,6 +378,7 @@ public class Profile {
 	 */
 	public Profile withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -392,6 +416,7 @@ public class Profile {
 	 */
 	public void  setNumberOfRetainedFailedReports(Integer numberOfRetainedFailedReports) {
 		this.numberOfRetainedFailedReports = numberOfRetainedFailedReports;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -411,6 +436,7 @@ public class Profile {
 	 */
 	public Profile withNumberOfRetainedFailedReports(Integer numberOfRetainedFailedReports) {
 		this.numberOfRetainedFailedReports = numberOfRetainedFailedReports;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -432,6 +458,7 @@ public class Profile {
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -443,6 +470,7 @@ public class Profile {
 	 */
 	public Profile withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -464,6 +492,7 @@ public class Profile {
 	 */
 	public void  setEncodingType(String encodingType) {
 		this.encodingType = encodingType;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -475,6 +504,7 @@ public class Profile {
 	 */
 	public Profile withEncodingType(String encodingType) {
 		this.encodingType = encodingType;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -512,6 +542,7 @@ public class Profile {
 	 */
 	public void  setReportingInterval(Long reportingInterval) {
 		this.reportingInterval = reportingInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -531,6 +562,7 @@ public class Profile {
 	 */
 	public Profile withReportingInterval(Long reportingInterval) {
 		this.reportingInterval = reportingInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -576,6 +608,7 @@ public class Profile {
 	 */
 	public void  setTimeReference(LocalDateTime timeReference) {
 		this.timeReference = timeReference;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -599,6 +632,7 @@ public class Profile {
 	 */
 	public Profile withTimeReference(LocalDateTime timeReference) {
 		this.timeReference = timeReference;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -620,6 +654,7 @@ public class Profile {
 	 */
 	public void  setStreamingHost(String streamingHost) {
 		this.streamingHost = streamingHost;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -631,6 +666,7 @@ public class Profile {
 	 */
 	public Profile withStreamingHost(String streamingHost) {
 		this.streamingHost = streamingHost;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -652,6 +688,7 @@ public class Profile {
 	 */
 	public void  setStreamingPort(Long streamingPort) {
 		this.streamingPort = streamingPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -663,6 +700,7 @@ public class Profile {
 	 */
 	public Profile withStreamingPort(Long streamingPort) {
 		this.streamingPort = streamingPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -692,6 +730,7 @@ public class Profile {
 	 */
 	public void  setStreamingSessionID(Long streamingSessionID) {
 		this.streamingSessionID = streamingSessionID;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -707,6 +746,7 @@ public class Profile {
 	 */
 	public Profile withStreamingSessionID(Long streamingSessionID) {
 		this.streamingSessionID = streamingSessionID;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -728,6 +768,7 @@ public class Profile {
 	 */
 	public void  setFileTransferURL(String fileTransferURL) {
 		this.fileTransferURL = fileTransferURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -739,6 +780,7 @@ public class Profile {
 	 */
 	public Profile withFileTransferURL(String fileTransferURL) {
 		this.fileTransferURL = fileTransferURL;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -764,6 +806,7 @@ public class Profile {
 	 */
 	public void  setFileTransferUsername(String fileTransferUsername) {
 		this.fileTransferUsername = fileTransferUsername;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -777,6 +820,7 @@ public class Profile {
 	 */
 	public Profile withFileTransferUsername(String fileTransferUsername) {
 		this.fileTransferUsername = fileTransferUsername;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -802,6 +846,7 @@ public class Profile {
 	 */
 	public void  setFileTransferPassword(String fileTransferPassword) {
 		this.fileTransferPassword = fileTransferPassword;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -815,6 +860,7 @@ public class Profile {
 	 */
 	public Profile withFileTransferPassword(String fileTransferPassword) {
 		this.fileTransferPassword = fileTransferPassword;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -860,6 +906,7 @@ public class Profile {
 	 */
 	public void  setControlFileFormat(String controlFileFormat) {
 		this.controlFileFormat = controlFileFormat;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -883,6 +930,7 @@ public class Profile {
 	 */
 	public Profile withControlFileFormat(String controlFileFormat) {
 		this.controlFileFormat = controlFileFormat;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -894,10 +942,22 @@ public class Profile {
 	 * @return the value
 	 */
 	public Collection<Parameter> getParameters() {
-		if (this.parameters == null){ this.parameters=new ArrayList<>();}
+		if (!(this.parameters instanceof InstanceTable)){ this.parameters=InstanceTable.of(this.parameters);}
 		return parameters;
 	}
 
+	/**
+	 * Read the bulk data parameter table.
+
+        Each entry in this table represents a parameter (or set of parameters if a partial path is provided) to be collected and reported.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Parameter> viewParameters() {
+		return parameters == null ? Collections.emptyList() : parameters;
+	}
+
 	/**
 	 * Set the bulk data parameter table.
 
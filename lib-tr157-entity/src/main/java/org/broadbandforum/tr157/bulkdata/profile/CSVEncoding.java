@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object defines the properties to be used when the {{object|##.Profile}} object's {{param|#.EncodingType}} parameter value is {{enum|CSV|##.EncodingTypes}}.
@@ -77,6 +78,11 @@ public class CSVEncoding {
 	@CWMPParameter(access = "readWrite")
 	public String rowTimestamp;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CSVEncoding() {
 	}
 
@@ -99,6 +105,7 @@ public class CSVEncoding {
 	 */
 	public void  setFieldSeparator(String fieldSeparator) {
 		this.fieldSeparator = fieldSeparator;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +117,7 @@ public class CSVEncoding {
 	 */
 	public CSVEncoding withFieldSeparator(String fieldSeparator) {
 		this.fieldSeparator = fieldSeparator;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +139,7 @@ public class CSVEncoding {
 	 */
 	public void  setRowSeparator(String rowSeparator) {
 		this.rowSeparator = rowSeparator;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -142,6 +151,7 @@ public class CSVEncoding {
 	 */
 	public CSVEncoding withRowSeparator(String rowSeparator) {
 		this.rowSeparator = rowSeparator;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -163,6 +173,7 @@ public class CSVEncoding {
 	 */
 	public void  setEscapeCharacter(String escapeCharacter) {
 		this.escapeCharacter = escapeCharacter;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -174,6 +185,7 @@ public class CSVEncoding {
 	 */
 	public CSVEncoding withEscapeCharacter(String escapeCharacter) {
 		this.escapeCharacter = escapeCharacter;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -199,6 +211,7 @@ public class CSVEncoding {
 	 */
 	public void  setReportFormat(String reportFormat) {
 		this.reportFormat = reportFormat;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -212,6 +225,7 @@ public class CSVEncoding {
 	 */
 	public CSVEncoding withReportFormat(String reportFormat) {
 		this.reportFormat = reportFormat;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -233,6 +247,7 @@ public class CSVEncoding {
 	 */
 	public void  setRowTimestamp(String rowTimestamp) {
 		this.rowTimestamp = rowTimestamp;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -244,6 +259,7 @@ public class CSVEncoding {
 	 */
 	public CSVEncoding withRowTimestamp(String rowTimestamp) {
 		this.rowTimestamp = rowTimestamp;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr157.bulkdata.profile;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr157.bulkdata.profile.http.RequestURIParameter;
 
 	/**
@@ -147,6 +150,11 @@ public class HTTP {
 	@CWMPParameter(access = "readWrite")
 	public Collection<RequestURIParameter> requestURIParameters;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HTTP() {
 	}
 
@@ -169,6 +177,7 @@ public class HTTP {
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -180,6 +189,7 @@ public class HTTP {
 	 */
 	public HTTP withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -201,6 +211,7 @@ public class HTTP {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -212,6 +223,7 @@ public class HTTP {
 	 */
 	public HTTP withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -233,6 +245,7 @@ public class HTTP {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -244,6 +257,7 @@ public class HTTP {
 	 */
 	public HTTP withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -258,6 +272,17 @@ public class HTTP {
 		return compressionsSupported;
 	}
 
+	/**
+	 * Read the indicates the HTTP Compression mechanism(s) supported by this CPE for the purposes of transferring bulk data.
+	 *
+	 * @since 1.10
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCompressionsSupported() {
+		return compressionsSupported == null ? Collections.emptyList() : compressionsSupported;
+	}
+
 	/**
 	 * Set the indicates the HTTP Compression mechanism(s) supported by this CPE for the purposes of transferring bulk data.
 	 *
@@ -266,6 +291,7 @@ public class HTTP {
 	 */
 	public void  setCompressionsSupported(Collection<String> compressionsSupported) {
 		this.compressionsSupported = compressionsSupported;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -277,6 +303,7 @@ public class HTTP {
 	 */
 	public HTTP withCompressionsSupported(String string) {
 		getCompressionsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -298,6 +325,7 @@ public class HTTP {
 	 */
 	public void  setCompression(String compression) {
 		this.compression = compression;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -309,6 +337,7 @@ public class HTTP {
 	 */
 	public HTTP withCompression(String compression) {
 		this.compression = compression;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -323,6 +352,17 @@ public class HTTP {
 		return methodsSupported;
 	}
 
+	/**
+	 * Read the indicates the HTTP method(s) supported by this CPE for the purposes of transferring bulk data.
+	 *
+	 * @since 1.10
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewMethodsSupported() {
+		return methodsSupported == null ? Collections.emptyList() : methodsSupported;
+	}
+
 	/**
 	 * Set the indicates the HTTP method(s) supported by this CPE for the purposes of transferring bulk data.
 	 *
@@ -331,6 +371,7 @@ public class HTTP {
 	 */
 	public void  setMethodsSupported(Collection<String> methodsSupported) {
 		this.methodsSupported = methodsSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -342,6 +383,7 @@ public class HTTP {
 	 */
 	public HTTP withMethodsSupported(String string) {
 		getMethodsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -363,6 +405,7 @@ public class HTTP {
 	 */
 	public void  setMethod(String method) {
 		this.method = method;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -374,6 +417,7 @@ public class HTTP {
 	 */
 	public HTTP withMethod(String method) {
 		this.method = method;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -395,6 +439,7 @@ public class HTTP {
 	 */
 	public void  setUseDateHeader(Boolean useDateHeader) {
 		this.useDateHeader = useDateHeader;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -406,6 +451,7 @@ public class HTTP {
 	 */
 	public HTTP withUseDateHeader(Boolean useDateHeader) {
 		this.useDateHeader = useDateHeader;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -427,6 +473,7 @@ public class HTTP {
 	 */
 	public void  setRetryEnable(Boolean retryEnable) {
 		this.retryEnable = retryEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -438,6 +485,7 @@ public class HTTP {
 	 */
 	public HTTP withRetryEnable(Boolean retryEnable) {
 		this.retryEnable = retryEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -463,6 +511,7 @@ public class HTTP {
 	 */
 	public void  setRetryMinimumWaitInterval(Long retryMinimumWaitInterval) {
 		this.retryMinimumWaitInterval = retryMinimumWaitInterval;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -476,6 +525,7 @@ public class HTTP {
 	 */
 	public HTTP withRetryMinimumWaitInterval(Long retryMinimumWaitInterval) {
 		this.retryMinimumWaitInterval = retryMinimumWaitInterval;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -505,6 +555,7 @@ public class HTTP {
 	 */
 	public void  setRetryIntervalMultiplier(Long retryIntervalMultiplier) {
 		this.retryIntervalMultiplier = retryIntervalMultiplier;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -520,6 +571,7 @@ public class HTTP {
 	 */
 	public HTTP withRetryIntervalMultiplier(Long retryIntervalMultiplier) {
 		this.retryIntervalMultiplier = retryIntervalMultiplier;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -529,10 +581,20 @@ public class HTTP {
 	 * @return the value
 	 */
 	public Collection<RequestURIParameter> getRequestURIParameters() {
-		if (this.requestURIParameters == null){ this.requestURIParameters=new ArrayList<>();}
+		if (!(this.requestURIParameters instanceof InstanceTable)){ this.requestURIParameters=InstanceTable.of(this.requestURIParameters);}
 		return requestURIParameters;
 	}
 
+	/**
+	 * Read the this object represents an instance of a parameter to be used in the report header used as part of the HTTP Request-URI transmitted by the CPE to the collection server using the Request-URI in addition to the parameters required by {{bibref|TR-157a10|Annex A.2.1}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RequestURIParameter> viewRequestURIParameters() {
+		return requestURIParameters == null ? Collections.emptyList() : requestURIParameters;
+	}
+
 	/**
 	 * Set the this object represents an instance of a parameter to be used in the report header used as part of the HTTP Request-URI transmitted by the CPE to the collection server using the Request-URI in addition to the parameters required by {{bibref|TR-157a10|Annex A.2.1}}.
 	 *
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object defines the properties to be used when the {{object|##.Profile}} object's {{param|#.EncodingType}} parameter value is {{enum|JSON|##.EncodingTypes}}.
@@ -53,6 +54,11 @@ public class JSONEncoding {
 	@CWMPParameter(access = "readWrite")
 	public String reportTimestamp;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public JSONEncoding() {
 	}
 
@@ -79,6 +85,7 @@ public class JSONEncoding {
 	 */
 	public void  setReportFormat(String reportFormat) {
 		this.reportFormat = reportFormat;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ public class JSONEncoding {
 	 */
 	public JSONEncoding withReportFormat(String reportFormat) {
 		this.reportFormat = reportFormat;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,6 +121,7 @@ public class JSONEncoding {
 	 */
 	public void  setReportTimestamp(String reportTimestamp) {
 		this.reportTimestamp = reportTimestamp;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -124,6 +133,7 @@ public class JSONEncoding {
 	 */
 	public JSONEncoding withReportTimestamp(String reportTimestamp) {
 		this.reportTimestamp = reportTimestamp;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
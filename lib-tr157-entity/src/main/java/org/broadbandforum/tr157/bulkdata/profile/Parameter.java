@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Bulk data parameter table.
@@ -64,6 +65,11 @@ public class Parameter {
 	@Size(max = 256)
 	public String reference;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Parameter() {
 	}
 
@@ -94,6 +100,7 @@ public class Parameter {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -109,6 +116,7 @@ public class Parameter {
 	 */
 	public Parameter withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -138,6 +146,7 @@ public class Parameter {
 	 */
 	public void  setReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -153,6 +162,7 @@ public class Parameter {
 	 */
 	public Parameter withReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
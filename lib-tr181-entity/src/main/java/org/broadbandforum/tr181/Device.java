@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -27,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ATM;
 import org.broadbandforum.tr181.device.Bridging;
 import org.broadbandforum.tr181.device.BulkData;
@@ -461,6 +463,11 @@ public class Device {
 	@XmlElement(name = "DynamicDNS")
 	public DynamicDNS dynamicDNS;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Device() {
 	}
 
@@ -483,6 +490,7 @@ public class Device {
 	 */
 	public void  setRootDataModelVersion(String rootDataModelVersion) {
 		this.rootDataModelVersion = rootDataModelVersion;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -494,6 +502,7 @@ public class Device {
 	 */
 	public Device withRootDataModelVersion(String rootDataModelVersion) {
 		this.rootDataModelVersion = rootDataModelVersion;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -681,10 +690,24 @@ public class Device {
 	 * @return the value
 	 */
 	public Collection<InterfaceStack> getInterfaceStacks() {
-		if (this.interfaceStacks == null){ this.interfaceStacks=new ArrayList<>();}
+		if (!(this.interfaceStacks instanceof InstanceTable)){ this.interfaceStacks=InstanceTable.of(this.interfaceStacks);}
 		return interfaceStacks;
 	}
 
+	/**
+	 * Read the this table contains information about the relationships between the multiple layers of interface objects ({{bibref|TR-181i2|Section 4.3}}). In particular, it contains information on which interfaces run ''on top of'' which other interfaces.
+
+        This table is auto-generated by the CPE based on the ''LowerLayers'' parameters on individual interface objects. 
+
+        Each table row represents a "link" between two interface objects, a higher-layer interface object (referenced by {{param|HigherLayer}}) and a lower-layer interface object (referenced by {{param|LowerLayer}}). Consequently, if a referenced interface object is deleted, the CPE MUST delete the corresponding {{object}} row(s) that had referenced it.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InterfaceStack> viewInterfaceStacks() {
+		return interfaceStacks == null ? Collections.emptyList() : interfaceStacks;
+	}
+
 	/**
 	 * Set the this table contains information about the relationships between the multiple layers of interface objects ({{bibref|TR-181i2|Section 4.3}}). In particular, it contains information on which interfaces run ''on top of'' which other interfaces.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.atm.Diagnostics;
 import org.broadbandforum.tr181.device.atm.Link;
 
@@ -66,10 +67,22 @@ public class ATM {
 	 * @return the value
 	 */
 	public Collection<Link> getLinks() {
-		if (this.links == null){ this.links=new ArrayList<>();}
+		if (!(this.links instanceof InstanceTable)){ this.links=InstanceTable.of(this.links);}
 		return links;
 	}
 
+	/**
+	 * Get atm link-layer table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Models an ATM PVC virtual circuit and the ATM Adaption Layer (AAL). An ATM Link entry is typically stacked on top of either a {{object|.DSL.Channel.}} or a {{object|.DSL.BondingGroup.}} object. 
+
+        When an ''ATM Link'' interface is used, a lower-layer {{object|.DSL.Channel}} interface MUST be configured with ATM encapsulation (see {{param|.DSL.Channel.{i}.LinkEncapsulationUsed}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Link> viewLinks() {
+		return links == null ? Collections.emptyList() : links;
+	}
+
 	/**
 	 * Set atm link-layer table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Models an ATM PVC virtual circuit and the ATM Adaption Layer (AAL). An ATM Link entry is typically stacked on top of either a {{object|.DSL.Channel.}} or a {{object|.DSL.BondingGroup.}} object. 
 
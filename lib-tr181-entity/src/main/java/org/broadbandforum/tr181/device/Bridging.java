@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.bridging.Bridge;
 import org.broadbandforum.tr181.device.bridging.Filter;
 import org.broadbandforum.tr181.device.bridging.ProviderBridge;
@@ -127,6 +129,11 @@ public class Bridging {
 	@CWMPParameter(access = "readWrite")
 	public Collection<ProviderBridge> providerBridges;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Bridging() {
 	}
 
@@ -149,6 +156,7 @@ public class Bridging {
 	 */
 	public void  setMaxBridgeEntries(Long maxBridgeEntries) {
 		this.maxBridgeEntries = maxBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -160,6 +168,7 @@ public class Bridging {
 	 */
 	public Bridging withMaxBridgeEntries(Long maxBridgeEntries) {
 		this.maxBridgeEntries = maxBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -185,6 +194,7 @@ public class Bridging {
 	 */
 	public void  setMaxDBridgeEntries(Long maxDBridgeEntries) {
 		this.maxDBridgeEntries = maxDBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -198,6 +208,7 @@ public class Bridging {
 	 */
 	public Bridging withMaxDBridgeEntries(Long maxDBridgeEntries) {
 		this.maxDBridgeEntries = maxDBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -223,6 +234,7 @@ public class Bridging {
 	 */
 	public void  setMaxQBridgeEntries(Long maxQBridgeEntries) {
 		this.maxQBridgeEntries = maxQBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -236,6 +248,7 @@ public class Bridging {
 	 */
 	public Bridging withMaxQBridgeEntries(Long maxQBridgeEntries) {
 		this.maxQBridgeEntries = maxQBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -257,6 +270,7 @@ public class Bridging {
 	 */
 	public void  setMaxVLANEntries(Long maxVLANEntries) {
 		this.maxVLANEntries = maxVLANEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -268,6 +282,7 @@ public class Bridging {
 	 */
 	public Bridging withMaxVLANEntries(Long maxVLANEntries) {
 		this.maxVLANEntries = maxVLANEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -289,6 +304,7 @@ public class Bridging {
 	 */
 	public void  setMaxProviderBridgeEntries(Long maxProviderBridgeEntries) {
 		this.maxProviderBridgeEntries = maxProviderBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -300,6 +316,7 @@ public class Bridging {
 	 */
 	public Bridging withMaxProviderBridgeEntries(Long maxProviderBridgeEntries) {
 		this.maxProviderBridgeEntries = maxProviderBridgeEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -321,6 +338,7 @@ public class Bridging {
 	 */
 	public void  setMaxFilterEntries(Long maxFilterEntries) {
 		this.maxFilterEntries = maxFilterEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -332,6 +350,7 @@ public class Bridging {
 	 */
 	public Bridging withMaxFilterEntries(Long maxFilterEntries) {
 		this.maxFilterEntries = maxFilterEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -341,10 +360,20 @@ public class Bridging {
 	 * @return the value
 	 */
 	public Collection<Bridge> getBridges() {
-		if (this.bridges == null){ this.bridges=new ArrayList<>();}
+		if (!(this.bridges instanceof InstanceTable)){ this.bridges=InstanceTable.of(this.bridges);}
 		return bridges;
 	}
 
+	/**
+	 * Read the bridge table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Bridge> viewBridges() {
+		return bridges == null ? Collections.emptyList() : bridges;
+	}
+
 	/**
 	 * Set the bridge table.
 	 *
@@ -377,10 +406,26 @@ public class Bridging {
 	 * @return the value
 	 */
 	public Collection<Filter> getFilters() {
-		if (this.filters == null){ this.filters=new ArrayList<>();}
+		if (!(this.filters instanceof InstanceTable)){ this.filters=InstanceTable.of(this.filters);}
 		return filters;
 	}
 
+	/**
+	 * Read the filter table containing classification filter entries, each of which expresses a set of classification criterion to classify ingress frames as member of a {{object|#.Bridge}} instance or a {{object|#.Bridge.{i}.VLAN}} instance.
+
+        Bridge VLAN classification only applies for 802.1Q {{bibref|802.1Q-2011}} Bridges.
+
+        For enabled table entries, if {{param|Bridge}} or {{param|Interface}} is {{empty}} then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Several of this object's parameters specify DHCP option values. Some cases are version neutral (the parameter can apply to both DHCPv4 and DHCPv6), but in other cases the representation of the option is different for DHCPv4 and DHCPv6, so it is necessary to define separate DHCPv4-specific and DHCPv6-specific parameters. Therefore, an instance of this object that uses DHCP option values as filter criteria will be associated with either DHCPv4 or DHCPv6, as indicated by the {{param|DHCPType}} parameter.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Filter> viewFilters() {
+		return filters == null ? Collections.emptyList() : filters;
+	}
+
 	/**
 	 * Set the filter table containing classification filter entries, each of which expresses a set of classification criterion to classify ingress frames as member of a {{object|#.Bridge}} instance or a {{object|#.Bridge.{i}.VLAN}} instance.
 
@@ -425,10 +470,26 @@ public class Bridging {
 	 * @return the value
 	 */
 	public Collection<ProviderBridge> getProviderBridges() {
-		if (this.providerBridges == null){ this.providerBridges=new ArrayList<>();}
+		if (!(this.providerBridges instanceof InstanceTable)){ this.providerBridges=InstanceTable.of(this.providerBridges);}
 		return providerBridges;
 	}
 
+	/**
+	 * Read the provider Bridge table.
+
+        A Provider Bridge is described in {{bibref|802.1Q-2011|section 5.10 Provider Bridge conformance}} as an entity that is comprised of one S-VLAN component and zero or more C-VLAN components. S-VLAN and C-VLAN components are modelled as instances of {{object|#.Bridge}} objects.
+
+        When {{param|Type}} is configured with value of {{enum|PE|Type}} VLAN tags from the S-VLAN component (outer of 2 VLAN tags) are stacked on top of the VLAN tag from the C-VLAN component (inner of 2 VLAN tags).
+
+        When {{param|Type}} is configured with value of {{enum|S-VLAN|Type}} only VLAN tags from the S-VLAN component are utilized.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ProviderBridge> viewProviderBridges() {
+		return providerBridges == null ? Collections.emptyList() : providerBridges;
+	}
+
 	/**
 	 * Set the provider Bridge table.
 
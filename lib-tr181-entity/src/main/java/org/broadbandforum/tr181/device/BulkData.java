@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.bulkdata.Profile;
 
 	/**
@@ -127,6 +130,11 @@ public class BulkData {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Profile> profiles;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public BulkData() {
 	}
 
@@ -153,6 +161,7 @@ public class BulkData {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -166,6 +175,7 @@ public class BulkData {
 	 */
 	public BulkData withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -187,6 +197,7 @@ public class BulkData {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -198,6 +209,7 @@ public class BulkData {
 	 */
 	public BulkData withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -223,6 +235,7 @@ public class BulkData {
 	 */
 	public void  setMinReportingInterval(Long minReportingInterval) {
 		this.minReportingInterval = minReportingInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -236,6 +249,7 @@ public class BulkData {
 	 */
 	public BulkData withMinReportingInterval(Long minReportingInterval) {
 		this.minReportingInterval = minReportingInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -250,6 +264,17 @@ public class BulkData {
 		return protocols;
 	}
 
+	/**
+	 * Read the represents the IPDR and transport protocols that this device is capable of supporting.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewProtocols() {
+		return protocols == null ? Collections.emptyList() : protocols;
+	}
+
 	/**
 	 * Set the represents the IPDR and transport protocols that this device is capable of supporting.
 	 *
@@ -258,6 +283,7 @@ public class BulkData {
 	 */
 	public void  setProtocols(Collection<String> protocols) {
 		this.protocols = protocols;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -269,6 +295,7 @@ public class BulkData {
 	 */
 	public BulkData withProtocols(String string) {
 		getProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -283,6 +310,17 @@ public class BulkData {
 		return encodingTypes;
 	}
 
+	/**
+	 * Read the represents the Encoding Types for the protocols that this device is capable of supporting.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEncodingTypes() {
+		return encodingTypes == null ? Collections.emptyList() : encodingTypes;
+	}
+
 	/**
 	 * Set the represents the Encoding Types for the protocols that this device is capable of supporting.
 	 *
@@ -291,6 +329,7 @@ public class BulkData {
 	 */
 	public void  setEncodingTypes(Collection<String> encodingTypes) {
 		this.encodingTypes = encodingTypes;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -302,6 +341,7 @@ public class BulkData {
 	 */
 	public BulkData withEncodingTypes(String string) {
 		getEncodingTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -323,6 +363,7 @@ public class BulkData {
 	 */
 	public void  setParameterWildCardSupported(Boolean parameterWildCardSupported) {
 		this.parameterWildCardSupported = parameterWildCardSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -334,6 +375,7 @@ public class BulkData {
 	 */
 	public BulkData withParameterWildCardSupported(Boolean parameterWildCardSupported) {
 		this.parameterWildCardSupported = parameterWildCardSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -359,6 +401,7 @@ public class BulkData {
 	 */
 	public void  setMaxNumberOfProfiles(Integer maxNumberOfProfiles) {
 		this.maxNumberOfProfiles = maxNumberOfProfiles;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -372,6 +415,7 @@ public class BulkData {
 	 */
 	public BulkData withMaxNumberOfProfiles(Integer maxNumberOfProfiles) {
 		this.maxNumberOfProfiles = maxNumberOfProfiles;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -397,6 +441,7 @@ public class BulkData {
 	 */
 	public void  setMaxNumberOfParameterReferences(Integer maxNumberOfParameterReferences) {
 		this.maxNumberOfParameterReferences = maxNumberOfParameterReferences;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -410,6 +455,7 @@ public class BulkData {
 	 */
 	public BulkData withMaxNumberOfParameterReferences(Integer maxNumberOfParameterReferences) {
 		this.maxNumberOfParameterReferences = maxNumberOfParameterReferences;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -421,10 +467,22 @@ public class BulkData {
 	 * @return the value
 	 */
 	public Collection<Profile> getProfiles() {
-		if (this.profiles == null){ this.profiles=new ArrayList<>();}
+		if (!(this.profiles instanceof InstanceTable)){ this.profiles=InstanceTable.of(this.profiles);}
 		return profiles;
 	}
 
+	/**
+	 * Get a set of Bulk Data Collection profiles.  
+
+        Each profile represents a bulk data report, including its own timing configuration, communications configuration, and set of parameters.  This allows the ACS to configure multiple reports to be generated at different times for different sets of data.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Profile> viewProfiles() {
+		return profiles == null ? Collections.emptyList() : profiles;
+	}
+
 	/**
 	 * Set a set of Bulk Data Collection profiles.  
 
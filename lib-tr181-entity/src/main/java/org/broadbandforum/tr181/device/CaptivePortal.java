@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the captive portal configuration on the CPE.
@@ -101,6 +103,11 @@ public class CaptivePortal {
 	@Size(max = 2000)
 	public String url;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CaptivePortal() {
 	}
 
@@ -123,6 +130,7 @@ public class CaptivePortal {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +142,7 @@ public class CaptivePortal {
 	 */
 	public CaptivePortal withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -159,6 +168,7 @@ public class CaptivePortal {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -172,6 +182,7 @@ public class CaptivePortal {
 	 */
 	public CaptivePortal withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -202,6 +213,33 @@ public class CaptivePortal {
 		return allowedList;
 	}
 
+	/**
+	 * Read the {{list}} List items represent IP addresses to which HTTP (port 80) traffic MUST always be permitted, regardless of whether the captive portal is enabled.
+
+          Each entry in the list MUST be either an IP address, or an IP prefix specified using Classless Inter-Domain Routing (CIDR) notation {{bibref|RFC4632}}.
+
+          An IP prefix is specified as an IP address followed (with no intervening white space) by "/n", where ''n'' (the prefix size) is an integer in the range 0-32 (for IPv4) or 0-128 (for IPv6) that indicates the number of (leftmost) '1' bits of the prefix.
+
+          IPv4 example: 
+
+          * 1.2.3.4 specifies a single IPv4 address, and 1.2.3.4/24 specifies a class C subnet with subnet mask 255.255.255.0.
+
+          * 1.2.0.0/22 represents the 1024 IPv4 addresses from 1.2.0.0 to 1.2.3.255. 
+
+          IPv6 example: 
+
+          * fec0::220:edff:fe6a:f76 specifies a single IPv6 address.
+
+          * 2001:edff:fe6a:f76::/64 represents the IPv6 addresses from 2001:edff:fe6a:f76:0:0:0:0 to 2001:edff:fe6a:f76:ffff:ffff:ffff:ffff.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAllowedList() {
+		return allowedList == null ? Collections.emptyList() : allowedList;
+	}
+
 	/**
 	 * Set the {{list}} List items represent IP addresses to which HTTP (port 80) traffic MUST always be permitted, regardless of whether the captive portal is enabled.
 
@@ -226,6 +264,7 @@ public class CaptivePortal {
 	 */
 	public void  setAllowedList(Collection<String> allowedList) {
 		this.allowedList = allowedList;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -253,6 +292,7 @@ public class CaptivePortal {
 	 */
 	public CaptivePortal withAllowedList(String string) {
 		getAllowedList().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -282,6 +322,7 @@ public class CaptivePortal {
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -297,6 +338,7 @@ public class CaptivePortal {
 	 */
 	public CaptivePortal withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.cellular.AccessPoint;
 import org.broadbandforum.tr181.device.cellular.Interface;
 
@@ -68,6 +70,11 @@ public class Cellular {
 	@CWMPParameter(access = "readWrite")
 	public Collection<AccessPoint> accessPoints;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Cellular() {
 	}
 
@@ -90,6 +97,7 @@ public class Cellular {
 	 */
 	public void  setRoamingEnabled(Boolean roamingEnabled) {
 		this.roamingEnabled = roamingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -101,6 +109,7 @@ public class Cellular {
 	 */
 	public Cellular withRoamingEnabled(Boolean roamingEnabled) {
 		this.roamingEnabled = roamingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,6 +131,7 @@ public class Cellular {
 	 */
 	public void  setRoamingStatus(String roamingStatus) {
 		this.roamingStatus = roamingStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -133,6 +143,7 @@ public class Cellular {
 	 */
 	public Cellular withRoamingStatus(String roamingStatus) {
 		this.roamingStatus = roamingStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -142,10 +153,20 @@ public class Cellular {
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the cellular interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).  Each instance of this object models a cellular modem with a single radio and a single {{object|USIM}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the cellular interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).  Each instance of this object models a cellular modem with a single radio and a single {{object|USIM}}.
 	 *
@@ -172,10 +193,20 @@ public class Cellular {
 	 * @return the value
 	 */
 	public Collection<AccessPoint> getAccessPoints() {
-		if (this.accessPoints == null){ this.accessPoints=new ArrayList<>();}
+		if (!(this.accessPoints instanceof InstanceTable)){ this.accessPoints=InstanceTable.of(this.accessPoints);}
 		return accessPoints;
 	}
 
+	/**
+	 * Read the cellular Access Point table. Each entry is identified by an {{param|APN}} (Access Point Name) that identifies a gateway between the mobile network and another computer network.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AccessPoint> viewAccessPoints() {
+		return accessPoints == null ? Collections.emptyList() : accessPoints;
+	}
+
 	/**
 	 * Set the cellular Access Point table. Each entry is identified by an {{param|APN}} (Access Point Name) that identifies a gateway between the mobile network and another computer network.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv4.Client;
 import org.broadbandforum.tr181.device.dhcpv4.Relay;
 import org.broadbandforum.tr181.device.dhcpv4.Server;
@@ -76,10 +77,24 @@ public class DHCPv4 {
 	 * @return the value
 	 */
 	public Collection<Client> getClients() {
-		if (this.clients == null){ this.clients=new ArrayList<>();}
+		if (!(this.clients instanceof InstanceTable)){ this.clients=InstanceTable.of(this.clients);}
 		return clients;
 	}
 
+	/**
+	 * Read the this object contains DHCP client settings for an associated ''IP Interface'' indicated by {{param|Interface}}.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes a unique key parameter that is a strong reference. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}} and disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Client> viewClients() {
+		return clients == null ? Collections.emptyList() : clients;
+	}
+
 	/**
 	 * Set the this object contains DHCP client settings for an associated ''IP Interface'' indicated by {{param|Interface}}.
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.dns.Client;
 import org.broadbandforum.tr181.device.dns.Diagnostics;
 import org.broadbandforum.tr181.device.dns.Relay;
@@ -73,6 +75,11 @@ Enumerated value must be one of [A, AAAA, SRV, PTR]
 	@XmlElement(name = "SD")
 	public SD sd;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DNS() {
 	}
 
@@ -90,6 +97,19 @@ Enumerated value must be one of [A, AAAA, SRV, PTR]
 		return supportedRecordTypes;
 	}
 
+	/**
+	 * Read the DNS record types that are supported by the device. 
+
+Enumerated value must be one of [A, AAAA, SRV, PTR]
+	 *
+	 * @since 2.2
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedRecordTypes() {
+		return supportedRecordTypes == null ? Collections.emptyList() : supportedRecordTypes;
+	}
+
 	/**
 	 * Set the DNS record types that are supported by the device. 
 
@@ -100,6 +120,7 @@ Enumerated value must be one of [A, AAAA, SRV, PTR]
 	 */
 	public void  setSupportedRecordTypes(Collection<String> supportedRecordTypes) {
 		this.supportedRecordTypes = supportedRecordTypes;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +134,7 @@ Enumerated value must be one of [A, AAAA, SRV, PTR]
 	 */
 	public DNS withSupportedRecordTypes(String string) {
 		getSupportedRecordTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
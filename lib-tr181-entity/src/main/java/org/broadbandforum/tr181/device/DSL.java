@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dsl.BondingGroup;
 import org.broadbandforum.tr181.device.dsl.Channel;
 import org.broadbandforum.tr181.device.dsl.Diagnostics;
@@ -84,10 +85,22 @@ public class DSL {
 	 * @return the value
 	 */
 	public Collection<Line> getLines() {
-		if (this.lines == null){ this.lines=new ArrayList<>();}
+		if (!(this.lines instanceof InstanceTable)){ this.lines=InstanceTable.of(this.lines);}
 		return lines;
 	}
 
+	/**
+	 * Read the dsl Line table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). 
+
+        This table models physical DSL lines.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Line> viewLines() {
+		return lines == null ? Collections.emptyList() : lines;
+	}
+
 	/**
 	 * Set the dsl Line table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). 
 
@@ -120,10 +133,22 @@ public class DSL {
 	 * @return the value
 	 */
 	public Collection<Channel> getChannels() {
-		if (this.channels == null){ this.channels=new ArrayList<>();}
+		if (!(this.channels instanceof InstanceTable)){ this.channels=InstanceTable.of(this.channels);}
 		return channels;
 	}
 
+	/**
+	 * Read the dsl Channel table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). 
+
+        This table models DSL channel(s) on top of physical DSL lines.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Channel> viewChannels() {
+		return channels == null ? Collections.emptyList() : channels;
+	}
+
 	/**
 	 * Set the dsl Channel table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). 
 
@@ -158,10 +183,24 @@ public class DSL {
 	 * @return the value
 	 */
 	public Collection<BondingGroup> getBondingGroups() {
-		if (this.bondingGroups == null){ this.bondingGroups=new ArrayList<>();}
+		if (!(this.bondingGroups instanceof InstanceTable)){ this.bondingGroups=InstanceTable.of(this.bondingGroups);}
 		return bondingGroups;
 	}
 
+	/**
+	 * Read the dsl bonding group table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Each instance is a bonding group, and is expected to be stacked above a {{object|#.Channel}} instance for each bonded channel in the group.
+
+        Many of the parameters within this object, including {{param|LowerLayers}}, are read-only because bonding is not expected to be configured via {{bibref|TR-069}}.
+
+        The DSL bonding data model is closely aligned with {{bibref|TR-159}}. Corresponds to {{bibref|TR-159}} ''oBondingGroup''.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BondingGroup> viewBondingGroups() {
+		return bondingGroups == null ? Collections.emptyList() : bondingGroups;
+	}
+
 	/**
 	 * Set the dsl bonding group table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Each instance is a bonding group, and is expected to be stacked above a {{object|#.Channel}} instance for each bonded channel in the group.
 
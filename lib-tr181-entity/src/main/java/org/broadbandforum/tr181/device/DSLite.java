@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dslite.InterfaceSetting;
 
 	/**
@@ -55,6 +57,11 @@ public class DSLite {
 	@XmlElement(name = "InterfaceSetting")
 	public Collection<InterfaceSetting> interfaceSettings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DSLite() {
 	}
 
@@ -77,6 +84,7 @@ public class DSLite {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -88,6 +96,7 @@ public class DSLite {
 	 */
 	public DSLite withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -97,10 +106,20 @@ public class DSLite {
 	 * @return the value
 	 */
 	public Collection<InterfaceSetting> getInterfaceSettings() {
-		if (this.interfaceSettings == null){ this.interfaceSettings=new ArrayList<>();}
+		if (!(this.interfaceSettings instanceof InstanceTable)){ this.interfaceSettings=InstanceTable.of(this.interfaceSettings);}
 		return interfaceSettings;
 	}
 
+	/**
+	 * Read the dslite {{bibref|DSLite}} settings.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InterfaceSetting> viewInterfaceSettings() {
+		return interfaceSettings == null ? Collections.emptyList() : interfaceSettings;
+	}
+
 	/**
 	 * Set the dslite {{bibref|DSLite}} settings.
 	 *
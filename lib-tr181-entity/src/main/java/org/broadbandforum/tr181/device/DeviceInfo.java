@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -27,8 +28,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.deviceinfo.Location;
 import org.broadbandforum.tr181.device.deviceinfo.MemoryStatus;
 import org.broadbandforum.tr181.device.deviceinfo.NetworkProperties;
@@ -193,6 +198,7 @@ public class DeviceInfo {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "FirstUseDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime firstUseDate;
 	/**
@@ -264,6 +270,11 @@ public class DeviceInfo {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Location> locations;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DeviceInfo() {
 	}
 
@@ -281,6 +292,19 @@ public class DeviceInfo {
 		return deviceCategory;
 	}
 
+	/**
+	 * Read the each list item is a device category (e.g. "AV_TV" and "AV_Recorder"), or the value is {{empty}} if no such element is provided by the device.
+
+          Note: It is assumed that this list might be used for HTIP (Home-network Topology Identifying Protocol) {{bibref|JJ-300.00}} and {{bibref|G.9973}}. Standard HTIP device categories are defined in {{bibref|JJ-300.01}}. In this case, the maximum length of the list is 127 and of each item is 31, and any non-HTIP device categories SHOULD NOT conflict with standard HTIP device categories.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDeviceCategory() {
+		return deviceCategory == null ? Collections.emptyList() : deviceCategory;
+	}
+
 	/**
 	 * Set the each list item is a device category (e.g. "AV_TV" and "AV_Recorder"), or the value is {{empty}} if no such element is provided by the device.
 
@@ -291,6 +315,7 @@ public class DeviceInfo {
 	 */
 	public void  setDeviceCategory(Collection<String> deviceCategory) {
 		this.deviceCategory = deviceCategory;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -304,6 +329,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withDeviceCategory(String string) {
 		getDeviceCategory().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -325,6 +351,7 @@ public class DeviceInfo {
 	 */
 	public void  setManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -336,6 +363,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -365,6 +393,7 @@ public class DeviceInfo {
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -380,6 +409,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -401,6 +431,7 @@ public class DeviceInfo {
 	 */
 	public void  setModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -412,6 +443,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -437,6 +469,7 @@ public class DeviceInfo {
 	 */
 	public void  setModelNumber(String modelNumber) {
 		this.modelNumber = modelNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -450,6 +483,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withModelNumber(String modelNumber) {
 		this.modelNumber = modelNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -471,6 +505,7 @@ public class DeviceInfo {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -482,6 +517,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -507,6 +543,7 @@ public class DeviceInfo {
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -520,6 +557,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -545,6 +583,7 @@ public class DeviceInfo {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -558,6 +597,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -579,6 +619,7 @@ public class DeviceInfo {
 	 */
 	public void  setHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -590,6 +631,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withHardwareVersion(String hardwareVersion) {
 		this.hardwareVersion = hardwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -615,6 +657,7 @@ public class DeviceInfo {
 	 */
 	public void  setSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -628,6 +671,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withSoftwareVersion(String softwareVersion) {
 		this.softwareVersion = softwareVersion;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -642,6 +686,17 @@ public class DeviceInfo {
 		return additionalHardwareVersion;
 	}
 
+	/**
+	 * Read the {{list}}  Each entry is an additional version.  Represents any additional hardware version information the vendor might wish to supply.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalHardwareVersion() {
+		return additionalHardwareVersion == null ? Collections.emptyList() : additionalHardwareVersion;
+	}
+
 	/**
 	 * Set the {{list}}  Each entry is an additional version.  Represents any additional hardware version information the vendor might wish to supply.
 	 *
@@ -650,6 +705,7 @@ public class DeviceInfo {
 	 */
 	public void  setAdditionalHardwareVersion(Collection<String> additionalHardwareVersion) {
 		this.additionalHardwareVersion = additionalHardwareVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -661,6 +717,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withAdditionalHardwareVersion(String string) {
 		getAdditionalHardwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -675,6 +732,17 @@ public class DeviceInfo {
 		return additionalSoftwareVersion;
 	}
 
+	/**
+	 * Read the {{list}}  Each entry is an additional version.  Represents any additional software version information the vendor might wish to supply.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAdditionalSoftwareVersion() {
+		return additionalSoftwareVersion == null ? Collections.emptyList() : additionalSoftwareVersion;
+	}
+
 	/**
 	 * Set the {{list}}  Each entry is an additional version.  Represents any additional software version information the vendor might wish to supply.
 	 *
@@ -683,6 +751,7 @@ public class DeviceInfo {
 	 */
 	public void  setAdditionalSoftwareVersion(Collection<String> additionalSoftwareVersion) {
 		this.additionalSoftwareVersion = additionalSoftwareVersion;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -694,6 +763,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withAdditionalSoftwareVersion(String string) {
 		getAdditionalSoftwareVersion().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -715,6 +785,7 @@ public class DeviceInfo {
 	 */
 	public void  setProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -726,6 +797,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withProvisioningCode(String provisioningCode) {
 		this.provisioningCode = provisioningCode;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -747,6 +819,7 @@ public class DeviceInfo {
 	 */
 	public void  setUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -758,6 +831,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withUptime(Long uptime) {
 		this.uptime = uptime;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -783,6 +857,7 @@ public class DeviceInfo {
 	 */
 	public void  setFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -796,6 +871,7 @@ public class DeviceInfo {
 	 */
 	public DeviceInfo withFirstUseDate(LocalDateTime firstUseDate) {
 		this.firstUseDate = firstUseDate;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -809,10 +885,24 @@ public class DeviceInfo {
 	 * @return the value
 	 */
 	public Collection<VendorConfigFile> getVendorConfigFiles() {
-		if (this.vendorConfigFiles == null){ this.vendorConfigFiles=new ArrayList<>();}
+		if (!(this.vendorConfigFiles instanceof InstanceTable)){ this.vendorConfigFiles=InstanceTable.of(this.vendorConfigFiles);}
 		return vendorConfigFiles;
 	}
 
+	/**
+	 * Read the every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor  Configuration File.
+
+        This table of Vendor Configuration Files is for information only and does not allow the ACS to operate on these files in any way.
+
+        Whenever the CPE successfully downloads a configuration file as a result of the Download RPC with the FileType argument of ''3 Vendor Configuration File'', the CPE MUST update this table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VendorConfigFile> viewVendorConfigFiles() {
+		return vendorConfigFiles == null ? Collections.emptyList() : vendorConfigFiles;
+	}
+
 	/**
 	 * Set the every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor  Configuration File.
 
@@ -853,10 +943,26 @@ public class DeviceInfo {
 	 * @return the value
 	 */
 	public Collection<SupportedDataModel> getSupportedDataModels() {
-		if (this.supportedDataModels == null){ this.supportedDataModels=new ArrayList<>();}
+		if (!(this.supportedDataModels instanceof InstanceTable)){ this.supportedDataModels=InstanceTable.of(this.supportedDataModels);}
 		return supportedDataModels;
 	}
 
+	/**
+	 * Read the this table contains details of the device's Current Supported Data Model.
+
+        The table MUST describe the device's entire Supported Data Model.  Therefore, if a device's Supported Data Model changes at run-time, entries will need to be added or removed as appropriate.
+
+        Each table entry MUST refer to only a single Root Object or Service Object.  The device MAY choose to use more than one table entry for a given Root Object or Service Object.
+
+        Considering that every device has some form of a data model, this table MUST NOT be empty.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SupportedDataModel> viewSupportedDataModels() {
+		return supportedDataModels == null ? Collections.emptyList() : supportedDataModels;
+	}
+
 	/**
 	 * Set the this table contains details of the device's Current Supported Data Model.
 
@@ -1011,10 +1117,20 @@ public class DeviceInfo {
 	 * @return the value
 	 */
 	public Collection<Processor> getProcessors() {
-		if (this.processors == null){ this.processors=new ArrayList<>();}
+		if (!(this.processors instanceof InstanceTable)){ this.processors=InstanceTable.of(this.processors);}
 		return processors;
 	}
 
+	/**
+	 * Read the each table entry represents a hardware or virtual processor that resides on this device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Processor> viewProcessors() {
+		return processors == null ? Collections.emptyList() : processors;
+	}
+
 	/**
 	 * Set the each table entry represents a hardware or virtual processor that resides on this device.
 	 *
@@ -1043,10 +1159,22 @@ public class DeviceInfo {
 	 * @return the value
 	 */
 	public Collection<VendorLogFile> getVendorLogFiles() {
-		if (this.vendorLogFiles == null){ this.vendorLogFiles=new ArrayList<>();}
+		if (!(this.vendorLogFiles instanceof InstanceTable)){ this.vendorLogFiles=InstanceTable.of(this.vendorLogFiles);}
 		return vendorLogFiles;
 	}
 
+	/**
+	 * Read the each table entry represents a Vendor Log File. 
+
+        This table of log files is informational only and does not allow the ACS to operate on these files in any way.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VendorLogFile> viewVendorLogFiles() {
+		return vendorLogFiles == null ? Collections.emptyList() : vendorLogFiles;
+	}
+
 	/**
 	 * Set the each table entry represents a Vendor Log File. 
 
@@ -1106,10 +1234,20 @@ public class DeviceInfo {
 	 * @return the value
 	 */
 	public Collection<Location> getLocations() {
-		if (this.locations == null){ this.locations=new ArrayList<>();}
+		if (!(this.locations instanceof InstanceTable)){ this.locations=InstanceTable.of(this.locations);}
 		return locations;
 	}
 
+	/**
+	 * Read the this object contains Location information.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Location> viewLocations() {
+		return locations == null ? Collections.emptyList() : locations;
+	}
+
 	/**
 	 * Set the this object contains Location information.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dynamicdns.Client;
 import org.broadbandforum.tr181.device.dynamicdns.Server;
 
@@ -69,6 +72,11 @@ public class DynamicDNS {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Server> servers;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DynamicDNS() {
 	}
 
@@ -84,6 +92,17 @@ public class DynamicDNS {
 		return supportedServices;
 	}
 
+	/**
+	 * Read the list of Dynamic DNS service names that are supported by the CPE.
+	 *
+	 * @since 2.10
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedServices() {
+		return supportedServices == null ? Collections.emptyList() : supportedServices;
+	}
+
 	/**
 	 * Set the list of Dynamic DNS service names that are supported by the CPE.
 	 *
@@ -92,6 +111,7 @@ public class DynamicDNS {
 	 */
 	public void  setSupportedServices(Collection<String> supportedServices) {
 		this.supportedServices = supportedServices;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -103,6 +123,7 @@ public class DynamicDNS {
 	 */
 	public DynamicDNS withSupportedServices(String string) {
 		getSupportedServices().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,10 +137,24 @@ public class DynamicDNS {
 	 * @return the value
 	 */
 	public Collection<Client> getClients() {
-		if (this.clients == null){ this.clients=new ArrayList<>();}
+		if (!(this.clients instanceof InstanceTable)){ this.clients=InstanceTable.of(this.clients);}
 		return clients;
 	}
 
+	/**
+	 * Read the client properties for Dynamic DNS. 
+
+        A dynamic DNS client is responsible for verifying IP address changes and updating information from a subscribed account on a Dynamic DNS Server.
+
+        For enabled table entries, if {{param|Server}} is not a valid reference then the table entry is inoperable and the CPE MUST set the {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Client> viewClients() {
+		return clients == null ? Collections.emptyList() : clients;
+	}
+
 	/**
 	 * Set the client properties for Dynamic DNS. 
 
@@ -154,10 +189,20 @@ public class DynamicDNS {
 	 * @return the value
 	 */
 	public Collection<Server> getServers() {
-		if (this.servers == null){ this.servers=new ArrayList<>();}
+		if (!(this.servers instanceof InstanceTable)){ this.servers=InstanceTable.of(this.servers);}
 		return servers;
 	}
 
+	/**
+	 * Read the table of Dynamic DNS servers available for this CPE.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Server> viewServers() {
+		return servers == null ? Collections.emptyList() : servers;
+	}
+
 	/**
 	 * Set the table of Dynamic DNS servers available for this CPE.
 	 *
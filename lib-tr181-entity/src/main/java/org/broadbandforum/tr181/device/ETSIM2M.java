@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.SCL;
 
 	/**
@@ -84,10 +85,34 @@ public class ETSIM2M {
 	 * @return the value
 	 */
 	public Collection<SCL> getScls() {
-		if (this.scls == null){ this.scls=new ArrayList<>();}
+		if (!(this.scls instanceof InstanceTable)){ this.scls=InstanceTable.of(this.scls);}
 		return scls;
 	}
 
+	/**
+	 * Read the this object represents an instance of a Service Capability Layer (SCL) for a M2M device or gateway.
+
+        The {{object}} MAY be maintained by the ACS or by the CPE.
+
+        When the {{object}} provides the administration of an SCL that is represented as a {{object|.SoftwareModules.ExecutionUnit}} the {{object}} is maintained in the {{param|.SoftwareModules.ExecutionUnit.{i}.References}} parameter.
+
+        Section 5.1.2 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describes the high level event flows for SCL registration.
+
+        Section 9.3.2.6.2 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describes the creation/registration of SCLs.
+
+        Section 9.3.2.6.4 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describes the update/re-registration of SCLs.
+
+        Section 9.3.2.6.5 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describes the deletion/deregistration of SCLs.
+
+        {{keys}}
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SCL> viewScls() {
+		return scls == null ? Collections.emptyList() : scls;
+	}
+
 	/**
 	 * Set the this object represents an instance of a Service Capability Layer (SCL) for a M2M device or gateway.
 
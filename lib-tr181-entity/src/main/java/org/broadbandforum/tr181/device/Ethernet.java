@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ethernet.Interface;
 import org.broadbandforum.tr181.device.ethernet.Link;
 import org.broadbandforum.tr181.device.ethernet.RMONStats;
@@ -115,10 +116,38 @@ public class Ethernet {
 	 * @return the value
 	 */
 	public Collection<RMONStats> getRmoNStatss() {
-		if (this.rmoNStatss == null){ this.rmoNStatss=new ArrayList<>();}
+		if (!(this.rmoNStatss instanceof InstanceTable)){ this.rmoNStatss=InstanceTable.of(this.rmoNStatss);}
 		return rmoNStatss;
 	}
 
+	/**
+	 * Read the ethernet statistics based on the {{bibref|RFC2819}} ''RMON-MIB'' ''etherStatsTable'', with some extensions inspired by {{bibref|G.988|Section 9.3.32}}.
+
+        Each instance is associated with an interface capable of transporting Ethernet-encapsulated packets, and contains a set of unidirectional Ethernet statistics.
+
+        The statistics are sampled either on ingress or on egress.  This is determined as follows:
+
+        * If the instance is associated with an egress queue (or queues) via the {{param|Queue}} parameter or by setting {{param|AllQueues}} to {{true}} then data is sampled on egress.  In this case {{param|Bytes}} etc measure the data that has been sent on the interface, possibly filtered by {{param|Queue}} or {{param|VLANID}}.
+
+        * Otherwise data is sampled on ingress.  In this case {{param|Bytes}} etc measure the data that has been received on the interface, possibly filtered by {{param|VLANID}}.
+
+        When sampling on egress, the term ''received'' means ''received by the queuing sub-system''.
+
+        Multiple instances can be associated with a single interface: individual instances can be configured to collect data associated with the entire interface, or with a particular VLAN and/or queue.
+
+        The CPE MUST reset each instances's Stats parameters whenever the instance is disabled and re-enabled.  Whether this reset occurs when the instance becomes operationally disabled ({{param|Status}} = {{enum|Disabled|Status}}) or administratively enabled ({{param|Enable}} = {{true}}) is a local matter to the CPE.  This is similar to the behavior of interface statistics, e.g. as specified for {{object|Device.Ethernet.Interface.{i}.Stats}}.  Furthermore, this instance's Stats parameters MUST be reset whenever the referenced interface's Stats parameters are reset, or when the referenced queue or VLAN is disabled and re-enabled.
+
+        For enabled table entries, if {{param|Interface}} references an interface that is not capable of transporting Ethernet-encapsulated packets, or if {{param|Queue}} references a queue that is not instantiated on {{param|Interface}}, or if {{param|Queue}} is not a valid reference and {{param|AllQueues}} is {{false}}, the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes unique key parameters that are strong references. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}} and disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RMONStats> viewRmoNStatss() {
+		return rmoNStatss == null ? Collections.emptyList() : rmoNStatss;
+	}
+
 	/**
 	 * Set the ethernet statistics based on the {{bibref|RFC2819}} ''RMON-MIB'' ''etherStatsTable'', with some extensions inspired by {{bibref|G.988|Section 9.3.32}}.
 
@@ -181,10 +210,20 @@ public class Ethernet {
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the ethernet interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). This table models physical Ethernet ports, but in terms of the interface stack it also models the PHY and MAC level Ethernet interface.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the ethernet interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). This table models physical Ethernet ports, but in terms of the interface stack it also models the PHY and MAC level Ethernet interface.
 	 *
@@ -211,10 +250,20 @@ public class Ethernet {
 	 * @return the value
 	 */
 	public Collection<Link> getLinks() {
-		if (this.links == null){ this.links=new ArrayList<>();}
+		if (!(this.links instanceof InstanceTable)){ this.links=InstanceTable.of(this.links);}
 		return links;
 	}
 
+	/**
+	 * Read the ethernet link layer table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Table entries model the Logical Link Control (LLC) layer. It is expected that an ''Ethernet Link'' interface can be stacked above any lower-layer interface object capable of carrying Ethernet frames.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Link> viewLinks() {
+		return links == null ? Collections.emptyList() : links;
+	}
+
 	/**
 	 * Set the ethernet link layer table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Table entries model the Logical Link Control (LLC) layer. It is expected that an ''Ethernet Link'' interface can be stacked above any lower-layer interface object capable of carrying Ethernet frames.
 	 *
@@ -241,10 +290,20 @@ public class Ethernet {
 	 * @return the value
 	 */
 	public Collection<VLANTermination> getVlaNTerminations() {
-		if (this.vlaNTerminations == null){ this.vlaNTerminations=new ArrayList<>();}
+		if (!(this.vlaNTerminations instanceof InstanceTable)){ this.vlaNTerminations=InstanceTable.of(this.vlaNTerminations);}
 		return vlaNTerminations;
 	}
 
+	/**
+	 * Read the vlaN Termination table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). A VLAN Termination entry is typically stacked on top of a {{object|#.Link}} object to receive and send frames with the configured {{param|VLANID}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VLANTermination> viewVlaNTerminations() {
+		return vlaNTerminations == null ? Collections.emptyList() : vlaNTerminations;
+	}
+
 	/**
 	 * Set the vlaN Termination table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). A VLAN Termination entry is typically stacked on top of a {{object|#.Link}} object to receive and send frames with the configured {{param|VLANID}}.
 	 *
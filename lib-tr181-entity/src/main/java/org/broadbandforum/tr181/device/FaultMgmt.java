@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.faultmgmt.CurrentAlarm;
 import org.broadbandforum.tr181.device.faultmgmt.ExpeditedEvent;
 import org.broadbandforum.tr181.device.faultmgmt.HistoryEvent;
@@ -109,6 +111,11 @@ public class FaultMgmt {
 	@XmlElement(name = "QueuedEvent")
 	public Collection<QueuedEvent> queuedEvents;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FaultMgmt() {
 	}
 
@@ -131,6 +138,7 @@ public class FaultMgmt {
 	 */
 	public void  setMaxCurrentAlarmEntries(Long maxCurrentAlarmEntries) {
 		this.maxCurrentAlarmEntries = maxCurrentAlarmEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -142,6 +150,7 @@ public class FaultMgmt {
 	 */
 	public FaultMgmt withMaxCurrentAlarmEntries(Long maxCurrentAlarmEntries) {
 		this.maxCurrentAlarmEntries = maxCurrentAlarmEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -153,10 +162,22 @@ public class FaultMgmt {
 	 * @return the value
 	 */
 	public Collection<SupportedAlarm> getSupportedAlarms() {
-		if (this.supportedAlarms == null){ this.supportedAlarms=new ArrayList<>();}
+		if (!(this.supportedAlarms instanceof InstanceTable)){ this.supportedAlarms=InstanceTable.of(this.supportedAlarms);}
 		return supportedAlarms;
 	}
 
+	/**
+	 * Read the supported Alarm Entries which can be raised by the device. 
+
+        The instance numbers for this table SHOULD be maintained across firmware upgrades of the device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SupportedAlarm> viewSupportedAlarms() {
+		return supportedAlarms == null ? Collections.emptyList() : supportedAlarms;
+	}
+
 	/**
 	 * Set the supported Alarm Entries which can be raised by the device. 
 
@@ -193,10 +214,26 @@ public class FaultMgmt {
 	 * @return the value
 	 */
 	public Collection<CurrentAlarm> getCurrentAlarms() {
-		if (this.currentAlarms == null){ this.currentAlarms=new ArrayList<>();}
+		if (!(this.currentAlarms instanceof InstanceTable)){ this.currentAlarms=InstanceTable.of(this.currentAlarms);}
 		return currentAlarms;
 	}
 
+	/**
+	 * Read the contains all currently active alarms (whose {{param|.FaultMgmt.SupportedAlarm.{i}.PerceivedSeverity}} is not {{enum|Cleared|.FaultMgmt.SupportedAlarm.{i}.PerceivedSeverity}}).
+
+        Newly raised alarms result in a new entry in this table being added, any changes to the alarm as a result of an update event are updated in the existing table entry, and a clear event raised against an alarm results in the alarm being removed from this table.
+
+        If maximum entries as indicated by {{param|.FaultMgmt.MaxCurrentAlarmEntries}} is reached, the next event overrides the object with the oldest {{param|AlarmChangedTime}}.
+
+        When a new alarm replaces an existing alarm, then all parameter values for that instance are considered as changed for the purposes of value change notifications to the ACS (even if their new values are identical to those of the prior alarm).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CurrentAlarm> viewCurrentAlarms() {
+		return currentAlarms == null ? Collections.emptyList() : currentAlarms;
+	}
+
 	/**
 	 * Set the contains all currently active alarms (whose {{param|.FaultMgmt.SupportedAlarm.{i}.PerceivedSeverity}} is not {{enum|Cleared|.FaultMgmt.SupportedAlarm.{i}.PerceivedSeverity}}).
 
@@ -241,10 +278,26 @@ public class FaultMgmt {
 	 * @return the value
 	 */
 	public Collection<HistoryEvent> getHistoryEvents() {
-		if (this.historyEvents == null){ this.historyEvents=new ArrayList<>();}
+		if (!(this.historyEvents instanceof InstanceTable)){ this.historyEvents=InstanceTable.of(this.historyEvents);}
 		return historyEvents;
 	}
 
+	/**
+	 * Get alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table. This table also contains alarm clearing events.
+
+        Active alarms at the time of a power failure or reboot might not get an alarm clearing event.
+
+        This object has a fixed number of entries with instance numbers from 1 to {{param|.FaultMgmt.HistoryEventNumberOfEntries}}.  
+
+        If maximum instance number {{param|.FaultMgmt.HistoryEventNumberOfEntries}} is reached, the next event overrides the object with instance number 1.  Subsequent entries override objects at sequentially increasing instance numbers.  This logic provides for automatic "rolling" of records.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<HistoryEvent> viewHistoryEvents() {
+		return historyEvents == null ? Collections.emptyList() : historyEvents;
+	}
+
 	/**
 	 * Set alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table. This table also contains alarm clearing events.
 
@@ -291,10 +344,28 @@ public class FaultMgmt {
 	 * @return the value
 	 */
 	public Collection<ExpeditedEvent> getExpeditedEvents() {
-		if (this.expeditedEvents == null){ this.expeditedEvents=new ArrayList<>();}
+		if (!(this.expeditedEvents instanceof InstanceTable)){ this.expeditedEvents=InstanceTable.of(this.expeditedEvents);}
 		return expeditedEvents;
 	}
 
+	/**
+	 * Get alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table if their corresponding entry in {{object|.FaultMgmt.SupportedAlarm.{i}.}} has {{param|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}} set to {{enum|0 Expedited|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}}. This table also contains alarm clearing events. 
+
+        This object has a fixed number of entries with instance numbers from 1 to {{param|.FaultMgmt.ExpeditedEventNumberOfEntries}}.  
+
+        Initially the table starts with all instances having {{param|EventTime}} set to the Unknown Time value, as defined in {{bibref|TR-106a4}}.
+
+        If maximum instance number {{param|.FaultMgmt.ExpeditedEventNumberOfEntries}} is reached, the next event overrides the object with instance number 1.  Subsequent entries override objects at sequentially increasing instance numbers.  This logic provides for automatic "rolling" of records.
+
+        When a new alarm replaces an existing alarm, then all parameter values for that instance are considered as changed for the purposes of value change notifications to the ACS (even if their new values are identical to those of the prior alarm).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ExpeditedEvent> viewExpeditedEvents() {
+		return expeditedEvents == null ? Collections.emptyList() : expeditedEvents;
+	}
+
 	/**
 	 * Set alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table if their corresponding entry in {{object|.FaultMgmt.SupportedAlarm.{i}.}} has {{param|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}} set to {{enum|0 Expedited|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}}. This table also contains alarm clearing events. 
 
@@ -345,10 +416,28 @@ public class FaultMgmt {
 	 * @return the value
 	 */
 	public Collection<QueuedEvent> getQueuedEvents() {
-		if (this.queuedEvents == null){ this.queuedEvents=new ArrayList<>();}
+		if (!(this.queuedEvents instanceof InstanceTable)){ this.queuedEvents=InstanceTable.of(this.queuedEvents);}
 		return queuedEvents;
 	}
 
+	/**
+	 * Get alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table if their corresponding entry in {{object|.FaultMgmt.SupportedAlarm.{i}.}} has {{param|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}} set to {{enum|1 Queued|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}}. This table also contains alarm clearing events. 
+
+        This object has a fixed number of entries with instance numbers from 1 to {{param|.FaultMgmt.QueuedEventNumberOfEntries}}.  
+
+        Initially the table starts with all instances having {{param|EventTime}} set to the Unknown Time value, as defined in {{bibref|TR-106a4}}.
+
+        If maximum instance number {{param|.FaultMgmt.QueuedEventNumberOfEntries}} is reached, the next event overrides the object with instance number 1.  Subsequent entries override objects at sequentially increasing instance numbers.  This logic provides for automatic "rolling" of records.
+
+        When a new alarm replaces an existing alarm, then all parameter values for that instance are considered as changed for the purposes of value change notifications to the ACS (even if their new values are identical to those of the prior alarm).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<QueuedEvent> viewQueuedEvents() {
+		return queuedEvents == null ? Collections.emptyList() : queuedEvents;
+	}
+
 	/**
 	 * Set alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table if their corresponding entry in {{object|.FaultMgmt.SupportedAlarm.{i}.}} has {{param|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}} set to {{enum|1 Queued|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}}. This table also contains alarm clearing events. 
 
@@ -16,8 +16,8 @@
 package org.broadbandforum.tr181.device;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +25,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.firewall.Chain;
 import org.broadbandforum.tr181.device.firewall.Level;
 
@@ -104,6 +108,7 @@ public class Firewall {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastChange")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastChange;
 	/**
 	 * Firewall Level table. When an {{enum|Advanced|#.Config}} configuration is selected, {{param|#.AdvancedLevel}} selects the currently active entry in this table. Each {{object}} table entry references the {{object|#.Chain}} that contains the rules for this level.
@@ -122,6 +127,11 @@ public class Firewall {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Chain> chains;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Firewall() {
 	}
 
@@ -148,6 +158,7 @@ public class Firewall {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -161,6 +172,7 @@ public class Firewall {
 	 */
 	public Firewall withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -186,6 +198,7 @@ public class Firewall {
 	 */
 	public void  setConfig(String config) {
 		this.config = config;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -199,6 +212,7 @@ public class Firewall {
 	 */
 	public Firewall withConfig(String config) {
 		this.config = config;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -224,6 +238,7 @@ public class Firewall {
 	 */
 	public void  setAdvancedLevel(String advancedLevel) {
 		this.advancedLevel = advancedLevel;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -237,6 +252,7 @@ public class Firewall {
 	 */
 	public Firewall withAdvancedLevel(String advancedLevel) {
 		this.advancedLevel = advancedLevel;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -270,6 +286,7 @@ public class Firewall {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -287,6 +304,7 @@ public class Firewall {
 	 */
 	public Firewall withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -308,6 +326,7 @@ public class Firewall {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -319,6 +338,7 @@ public class Firewall {
 	 */
 	public Firewall withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -340,6 +360,7 @@ public class Firewall {
 	 */
 	public void  setLastChange(LocalDateTime lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -351,6 +372,7 @@ public class Firewall {
 	 */
 	public Firewall withLastChange(LocalDateTime lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -360,10 +382,20 @@ public class Firewall {
 	 * @return the value
 	 */
 	public Collection<Level> getLevels() {
-		if (this.levels == null){ this.levels=new ArrayList<>();}
+		if (!(this.levels instanceof InstanceTable)){ this.levels=InstanceTable.of(this.levels);}
 		return levels;
 	}
 
+	/**
+	 * Read the firewall Level table. When an {{enum|Advanced|#.Config}} configuration is selected, {{param|#.AdvancedLevel}} selects the currently active entry in this table. Each {{object}} table entry references the {{object|#.Chain}} that contains the rules for this level.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Level> viewLevels() {
+		return levels == null ? Collections.emptyList() : levels;
+	}
+
 	/**
 	 * Set the firewall Level table. When an {{enum|Advanced|#.Config}} configuration is selected, {{param|#.AdvancedLevel}} selects the currently active entry in this table. Each {{object}} table entry references the {{object|#.Chain}} that contains the rules for this level.
 	 *
@@ -392,10 +424,22 @@ public class Firewall {
 	 * @return the value
 	 */
 	public Collection<Chain> getChains() {
-		if (this.chains == null){ this.chains=new ArrayList<>();}
+		if (!(this.chains instanceof InstanceTable)){ this.chains=InstanceTable.of(this.chains);}
 		return chains;
 	}
 
+	/**
+	 * Read the firewall Chain table. Each entry contains an ordered list of {{object|Rule}} objects which can themselves reference other {{object}} instances. A hierarchy of rules can therefore be created.
+
+        A given Firewall Chain's rules are all created by the same entity, as indicated by the {{param|Creator}} parameter.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Chain> viewChains() {
+		return chains == null ? Collections.emptyList() : chains;
+	}
+
 	/**
 	 * Set the firewall Chain table. Each entry contains an ordered list of {{object|Rule}} objects which can themselves reference other {{object}} instances. A hierarchy of rules can therefore be created.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.gre.Filter;
 import org.broadbandforum.tr181.device.gre.Tunnel;
 
@@ -74,10 +75,20 @@ public class GRE {
 	 * @return the value
 	 */
 	public Collection<Tunnel> getTunnels() {
-		if (this.tunnels == null){ this.tunnels=new ArrayList<>();}
+		if (!(this.tunnels instanceof InstanceTable)){ this.tunnels=InstanceTable.of(this.tunnels);}
 		return tunnels;
 	}
 
+	/**
+	 * Read the gre Tunnel table, models the GRE Tunnel instance and represents the entry point and exit point of the tunnel in relation to the WAN interface. A {{object}} object has one or more {{object|Interface}} objects that further define the sessions or flows within the tunnel.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Tunnel> viewTunnels() {
+		return tunnels == null ? Collections.emptyList() : tunnels;
+	}
+
 	/**
 	 * Set the gre Tunnel table, models the GRE Tunnel instance and represents the entry point and exit point of the tunnel in relation to the WAN interface. A {{object}} object has one or more {{object|Interface}} objects that further define the sessions or flows within the tunnel.
 	 *
@@ -114,10 +125,30 @@ public class GRE {
 	 * @return the value
 	 */
 	public Collection<Filter> getFilters() {
-		if (this.filters == null){ this.filters=new ArrayList<>();}
+		if (!(this.filters instanceof InstanceTable)){ this.filters=InstanceTable.of(this.filters);}
 		return filters;
 	}
 
+	/**
+	 * Read the gre Filter table. Entries in this table are applied against the packets that are to be encapsulated within the GRE Tunnel based on the following conditions:
+
+        * If the value of the {{param|AllInterfaces}} is {{true}}, then this entry will be applied to all {{object|#.Tunnel}} and {{object|#.Tunnel.{i}.Interface}} instances.
+
+        * If the value of {{param|AllInterfaces}} is {{false}} and the value of {{param|Interface}} parameter is a reference to a row in the {{object|#.Tunnel}} table then this entry is applied to all {{object|#.Tunnel.{i}.Interface}} instances of the {{object|#.Tunnel}} reference.
+
+        * If the value of {{param|AllInterfaces}} is {{false}} and the value of {{param|Interface}} parameter is a reference to a row in the {{object|#.Tunnel.{i}.Interface}} table then this entry is applied to the {{object|#.Tunnel.{i}.Interface}} reference.
+
+        * If no entries are matched for the packet, then the default treatment (e.g., {{param|#.Tunnel.{i}.DefaultDSCPMark}}) is applied to the packet.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference and {{param|AllInterfaces}} is {{false}}, then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Filter> viewFilters() {
+		return filters == null ? Collections.emptyList() : filters;
+	}
+
 	/**
 	 * Set the gre Filter table. Entries in this table are applied against the packets that are to be encapsulated within the GRE Tunnel based on the following conditions:
 
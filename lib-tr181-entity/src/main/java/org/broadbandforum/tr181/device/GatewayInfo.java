@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains information associated with a connected Internet Gateway Device.
@@ -67,6 +68,11 @@ public class GatewayInfo {
 	@Size(max = 64)
 	public String serialNumber;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public GatewayInfo() {
 	}
 
@@ -93,6 +99,7 @@ public class GatewayInfo {
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -106,6 +113,7 @@ public class GatewayInfo {
 	 */
 	public GatewayInfo withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -127,6 +135,7 @@ public class GatewayInfo {
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -138,6 +147,7 @@ public class GatewayInfo {
 	 */
 	public GatewayInfo withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -159,6 +169,7 @@ public class GatewayInfo {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -170,6 +181,7 @@ public class GatewayInfo {
 	 */
 	public GatewayInfo withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ghn.Diagnostics;
 import org.broadbandforum.tr181.device.ghn.Interface;
 
@@ -60,10 +61,20 @@ public class Ghn {
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the g.hn interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Each table entry models the PHY {{bibref|G.9960}} and MAC {{bibref|G.9961}} layers of a G.hn interface.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the g.hn interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Each table entry models the PHY {{bibref|G.9960}} and MAC {{bibref|G.9961}} layers of a G.hn interface.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.hpna.Diagnostics;
 import org.broadbandforum.tr181.device.hpna.Interface;
 
@@ -60,10 +61,20 @@ public class HPNA {
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the hpnA interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Each table entry models the PHY and MAC levels of an HPNA interface {{bibref|G.9954}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the hpnA interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). Each table entry models the PHY and MAC levels of an HPNA interface {{bibref|G.9954}}.
 	 *
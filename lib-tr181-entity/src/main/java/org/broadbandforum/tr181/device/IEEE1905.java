@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.ieee1905.AL;
 
 	/**
@@ -47,6 +48,11 @@ public class IEEE1905 {
 	@XmlElement(name = "AL")
 	public AL al;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IEEE1905() {
 	}
 
@@ -69,6 +75,7 @@ public class IEEE1905 {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -80,6 +87,7 @@ public class IEEE1905 {
 	 */
 	public IEEE1905 withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
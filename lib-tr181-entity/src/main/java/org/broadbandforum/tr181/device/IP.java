@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,7 +25,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Prefix;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ip.ActivePort;
 import org.broadbandforum.tr181.device.ip.Diagnostics;
 import org.broadbandforum.tr181.device.ip.Interface;
@@ -132,6 +134,11 @@ public class IP {
 	@XmlElement(name = "Diagnostics")
 	public Diagnostics diagnostics;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IP() {
 	}
 
@@ -154,6 +161,7 @@ public class IP {
 	 */
 	public void  setIpv4Capable(Boolean ipv4Capable) {
 		this.ipv4Capable = ipv4Capable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +173,7 @@ public class IP {
 	 */
 	public IP withIpv4Capable(Boolean ipv4Capable) {
 		this.ipv4Capable = ipv4Capable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -190,6 +199,7 @@ public class IP {
 	 */
 	public void  setIpv4Enable(Boolean ipv4Enable) {
 		this.ipv4Enable = ipv4Enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -203,6 +213,7 @@ public class IP {
 	 */
 	public IP withIpv4Enable(Boolean ipv4Enable) {
 		this.ipv4Enable = ipv4Enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -228,6 +239,7 @@ public class IP {
 	 */
 	public void  setIpv4Status(String ipv4Status) {
 		this.ipv4Status = ipv4Status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -241,6 +253,7 @@ public class IP {
 	 */
 	public IP withIpv4Status(String ipv4Status) {
 		this.ipv4Status = ipv4Status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -266,6 +279,7 @@ public class IP {
 	 */
 	public void  setIpv6Capable(Boolean ipv6Capable) {
 		this.ipv6Capable = ipv6Capable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -279,6 +293,7 @@ public class IP {
 	 */
 	public IP withIpv6Capable(Boolean ipv6Capable) {
 		this.ipv6Capable = ipv6Capable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -304,6 +319,7 @@ public class IP {
 	 */
 	public void  setIpv6Enable(Boolean ipv6Enable) {
 		this.ipv6Enable = ipv6Enable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -317,6 +333,7 @@ public class IP {
 	 */
 	public IP withIpv6Enable(Boolean ipv6Enable) {
 		this.ipv6Enable = ipv6Enable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -342,6 +359,7 @@ public class IP {
 	 */
 	public void  setIpv6Status(String ipv6Status) {
 		this.ipv6Status = ipv6Status;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -355,6 +373,7 @@ public class IP {
 	 */
 	public IP withIpv6Status(String ipv6Status) {
 		this.ipv6Status = ipv6Status;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -376,6 +395,7 @@ public class IP {
 	 */
 	public void  setUlaPrefix(IPv6Prefix ulaPrefix) {
 		this.ulaPrefix = ulaPrefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -387,6 +407,7 @@ public class IP {
 	 */
 	public IP withUlaPrefix(IPv6Prefix ulaPrefix) {
 		this.ulaPrefix = ulaPrefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -406,10 +427,30 @@ public class IP {
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the ip interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). This table models the layer 3 IP interface.
+
+        Each IP interface can be attached to the IPv4 and/or IPv6 stack.  The interface's IP addresses and prefixes are listed in the {{object|IPv4Address}}, {{object|IPv6Address}} and {{object|IPv6Prefix}} tables.
+
+        Note that support for manipulating {{param|Loopback}} interfaces is OPTIONAL, so the implementation MAY choose not to create (or allow the ACS to create) {{object}} instances of type {{enum|Loopback|Type}}.
+
+        When the ACS administratively disables the interface, i.e. sets {{param|Enable}} to {{false}}, the interface's automatically-assigned IP addresses and prefixes MAY be retained.  When the ACS administratively enables the interface, i.e. sets {{param|Enable}} to {{true}}, these IP addresses and prefixes MUST be refreshed.  It's up to the implementation to decide exactly what this means: it SHOULD take all reasonable steps to refresh everything but if it is unable, for example, to refresh a prefix that still has a significant lifetime, it might well choose to retain rather than discard it.
+
+        Any {{enum|Tunneled|Type}} IP interface instances instantiated by the CPE MUST NOT have any statistics, writable parameters, IP addresses or IPv6 prefixes.  Any read-only parameters, e.g. {{param|Status}}, MUST return the same information as for the corresponding {{enum|Tunnel|Type}} interface.  The reason for these rules is that {{enum|Tunneled|Type}} IP interfaces exist only in order to be the targets of references (within the data model) and do not model any concepts over and above those already modeled by the {{enum|Tunnel|Type}} IP interfaces.
+
+        Note that {{enum|Tunnel|Type}} and {{enum|Tunneled|Type}} IP interfaces are part of a legacy mechanism that is only used for {{object|##.IPv6rd}}, {{object|##.DSLite}} and {{object|##.IPsec}} tunnels and MUST NOT be used in any other context.  For all other tunneling mechanisms {{enum|Normal|Type}} IP interfaces are stacked above technology-specific Tunnel Interfaces, e.g. above {{object|##.GRE.Tunnel.{i}.Interface}} or {{object|##.MAP.Domain.{i}.Interface}} objects.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the ip interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). This table models the layer 3 IP interface.
 
@@ -456,10 +497,20 @@ public class IP {
 	 * @return the value
 	 */
 	public Collection<ActivePort> getActivePorts() {
-		if (this.activePorts == null){ this.activePorts=new ArrayList<>();}
+		if (!(this.activePorts instanceof InstanceTable)){ this.activePorts=InstanceTable.of(this.activePorts);}
 		return activePorts;
 	}
 
+	/**
+	 * Read the this table lists the ports on which TCP connections are listening or established.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ActivePort> viewActivePorts() {
+		return activePorts == null ? Collections.emptyList() : activePorts;
+	}
+
 	/**
 	 * Set the this table lists the ports on which TCP connections are listening or established.
 	 *
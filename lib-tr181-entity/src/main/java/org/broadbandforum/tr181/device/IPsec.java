@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ipsec.Filter;
 import org.broadbandforum.tr181.device.ipsec.IKEv2SA;
 import org.broadbandforum.tr181.device.ipsec.Profile;
@@ -231,6 +234,11 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	@XmlElement(name = "IKEv2SA")
 	public Collection<IKEv2SA> ikev2SAs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPsec() {
 	}
 
@@ -253,6 +261,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -264,6 +273,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public IPsec withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -289,6 +299,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -302,6 +313,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public IPsec withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -323,6 +335,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public void  setAhsupported(Boolean ahsupported) {
 		this.ahsupported = ahsupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -334,6 +347,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public IPsec withAhsupported(Boolean ahsupported) {
 		this.ahsupported = ahsupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -360,6 +374,29 @@ Enumerated value must be one of [DES, 3DES, RC5, IDEA, CAST, BLOWFISH, 3IDEA, AE
 		return ikev2SupportedEncryptionAlgorithms;
 	}
 
+	/**
+	 * Read the supported IKEv2 encryption algorithms {{bibref|IKEv2-params|Transform Type 1}}.  
+
+Enumerated value must be one of [DES, 3DES, RC5, IDEA, CAST, BLOWFISH, 3IDEA, AES-CBC, AES-CTR, AES-CCM-8, AES-CCM-12, AES-CCM-16, AES-GCM-8, AES-GCM-12, AES-GCM-16, CAMELLIA-CBC]
+
+          Note that these are the names from the above reference, transformed as follows:
+
+          * Leading ''ENCR_'' (when present) discarded because they are all encryption algorithms so it's not needed.
+
+          * Underscores changed to hyphens to preserve names used in existing data models (and because of inconsistent conventions).
+
+          * Phrases collapsed where unambiguous, e.g. "with a(n) NN octet ICV" -> "-NN".
+
+          As additional algorithms are added to the above reference, this data model will be extended according to the above conventions.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkev2SupportedEncryptionAlgorithms() {
+		return ikev2SupportedEncryptionAlgorithms == null ? Collections.emptyList() : ikev2SupportedEncryptionAlgorithms;
+	}
+
 	/**
 	 * Set the supported IKEv2 encryption algorithms {{bibref|IKEv2-params|Transform Type 1}}.  
 
@@ -380,6 +417,7 @@ Enumerated value must be one of [DES, 3DES, RC5, IDEA, CAST, BLOWFISH, 3IDEA, AE
 	 */
 	public void  setIkev2SupportedEncryptionAlgorithms(Collection<String> ikev2SupportedEncryptionAlgorithms) {
 		this.ikev2SupportedEncryptionAlgorithms = ikev2SupportedEncryptionAlgorithms;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -403,6 +441,7 @@ Enumerated value must be one of [DES, 3DES, RC5, IDEA, CAST, BLOWFISH, 3IDEA, AE
 	 */
 	public IPsec withIkev2SupportedEncryptionAlgorithms(String string) {
 		getIkev2SupportedEncryptionAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -431,6 +470,31 @@ Enumerated value must be one of [NULL, DES-IV64, DES, 3DES, RC5, IDEA, CAST, BLO
 		return espSupportedEncryptionAlgorithms;
 	}
 
+	/**
+	 * Read the supported ESP encryption algorithms {{bibref|IKEv2-params|Transform Type 1}} {{bibref|RFC4835|Section 3.1.1}}.  
+
+Enumerated value must be one of [NULL, DES-IV64, DES, 3DES, RC5, IDEA, CAST, BLOWFISH, 3IDEA, DES-IV32, AES-CBC, AES-CTR, AES-CCM-8, AES-CCM-12, AES-CCM-16, AES-GCM-8, AES-GCM-12, AES-GCM-16, NULL-AUTH-AES-GMAC, CAMELLIA-CBC, CAMELLIA-CTR, CAMELLIA-CCM-8, CAMELLIA-CCM-12, CAMELLIA-CCM-16]
+
+          Note that these are the names from the above reference, transformed as follows:
+
+          * Leading ''ENCR_'' (when present) discarded because they are all encryption algorithms so it's not needed.
+
+          * Underscores changed to hyphens to preserve names used in existing data models (and because of inconsistent conventions).
+
+          * Phrases collapsed where unambiguous, e.g. "with a(n) NN octet ICV" -> "-NN".
+
+          * Some algorithms with apparently rather specialised application are omitted, e.g. ''ENCR_NULL_AUTH_AES_GMAC''.
+
+          As additional algorithms are added to the above reference, this data model will be extended according to the above conventions.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEspSupportedEncryptionAlgorithms() {
+		return espSupportedEncryptionAlgorithms == null ? Collections.emptyList() : espSupportedEncryptionAlgorithms;
+	}
+
 	/**
 	 * Set the supported ESP encryption algorithms {{bibref|IKEv2-params|Transform Type 1}} {{bibref|RFC4835|Section 3.1.1}}.  
 
@@ -453,6 +517,7 @@ Enumerated value must be one of [NULL, DES-IV64, DES, 3DES, RC5, IDEA, CAST, BLO
 	 */
 	public void  setEspSupportedEncryptionAlgorithms(Collection<String> espSupportedEncryptionAlgorithms) {
 		this.espSupportedEncryptionAlgorithms = espSupportedEncryptionAlgorithms;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -478,6 +543,7 @@ Enumerated value must be one of [NULL, DES-IV64, DES, 3DES, RC5, IDEA, CAST, BLO
 	 */
 	public IPsec withEspSupportedEncryptionAlgorithms(String string) {
 		getEspSupportedEncryptionAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -504,6 +570,29 @@ Enumerated value must be one of [HMAC-MD5, HMAC-SHA1, HMAC-TIGER, AES-128-XCBC,
 		return ikev2SupportedPseudoRandomFunctions;
 	}
 
+	/**
+	 * Read the supported IKEv2 pseudo-random functions {{bibref|IKEv2-params|Transform Type 2}}.  
+
+Enumerated value must be one of [HMAC-MD5, HMAC-SHA1, HMAC-TIGER, AES-128-XCBC, HMAC-SHA2-256, HMAC-SHA2-384, HMAC-SHA2-512, AES-128-CMAC]
+
+          Note that these are the names from the above reference, transformed as follows:
+
+          * Leading ''PRF_'' (when present) discarded because they all pseudo-random functions so it's not needed.
+
+          * Underscores changed to hyphens to preserve names used in existing data models.
+
+          * Hyphen inserted after ''AES'' (or other acronym) when immediately followed by a key length.
+
+          As additional functions are added to the above reference, this data model will be extended according to the above conventions.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkev2SupportedPseudoRandomFunctions() {
+		return ikev2SupportedPseudoRandomFunctions == null ? Collections.emptyList() : ikev2SupportedPseudoRandomFunctions;
+	}
+
 	/**
 	 * Set the supported IKEv2 pseudo-random functions {{bibref|IKEv2-params|Transform Type 2}}.  
 
@@ -524,6 +613,7 @@ Enumerated value must be one of [HMAC-MD5, HMAC-SHA1, HMAC-TIGER, AES-128-XCBC,
 	 */
 	public void  setIkev2SupportedPseudoRandomFunctions(Collection<String> ikev2SupportedPseudoRandomFunctions) {
 		this.ikev2SupportedPseudoRandomFunctions = ikev2SupportedPseudoRandomFunctions;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -547,6 +637,7 @@ Enumerated value must be one of [HMAC-MD5, HMAC-SHA1, HMAC-TIGER, AES-128-XCBC,
 	 */
 	public IPsec withIkev2SupportedPseudoRandomFunctions(String string) {
 		getIkev2SupportedPseudoRandomFunctions().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -571,6 +662,27 @@ Enumerated value must be one of [NONE, HMAC-MD5-96, HMAC-SHA1-96, DES-MAC, KPDK-
 		return supportedIntegrityAlgorithms;
 	}
 
+	/**
+	 * Read the supported integrity algorithms {{bibref|IKEv2-params|Transform Type 3}}.  
+
+Enumerated value must be one of [NONE, HMAC-MD5-96, HMAC-SHA1-96, DES-MAC, KPDK-MD5, AES-XCBC-96, HMAC-MD5-128, HMAC-SHA1-160, AES-CMAC-96, AES-128-GMAC, AES-192-GMAC, AES-256-GMAC, HMAC-SHA2-256-128, HMAC-SHA2-256-192, HMAC-SHA2-256-256]
+
+          Note that these are the names from the above reference, transformed as follows:
+
+          * Leading ''AUTH_'' (when present) discarded because they all authentication (integrity) algorithms so it's not needed.
+
+          * Underscores changed to hyphens to preserve names used in existing data models.
+
+          As additional algorithms are added to the above reference, this data model will be extended according to the above conventions.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedIntegrityAlgorithms() {
+		return supportedIntegrityAlgorithms == null ? Collections.emptyList() : supportedIntegrityAlgorithms;
+	}
+
 	/**
 	 * Set the supported integrity algorithms {{bibref|IKEv2-params|Transform Type 3}}.  
 
@@ -589,6 +701,7 @@ Enumerated value must be one of [NONE, HMAC-MD5-96, HMAC-SHA1-96, DES-MAC, KPDK-
 	 */
 	public void  setSupportedIntegrityAlgorithms(Collection<String> supportedIntegrityAlgorithms) {
 		this.supportedIntegrityAlgorithms = supportedIntegrityAlgorithms;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -610,6 +723,7 @@ Enumerated value must be one of [NONE, HMAC-MD5-96, HMAC-SHA1-96, DES-MAC, KPDK-
 	 */
 	public IPsec withSupportedIntegrityAlgorithms(String string) {
 		getSupportedIntegrityAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -636,6 +750,29 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 		return supportedDiffieHellmanGroupTransforms;
 	}
 
+	/**
+	 * Read the supported Diffie-Hellman group transforms {{bibref|IKEv2-params|Transform Type 4}}.  
+
+Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048, MODP-3072, MODP-4096, MODP-6144, MODP-8192, ECP-256, ECP-384, ECP-521, MODP-1024-PRIME-160, MODP-2048-PRIME-224, MODP-2048-PRIME-256, ECP-192, ECP-224]
+
+          Note that these are the names from the above reference, transformed as follows:
+
+          * Name (other than ''NONE'') always starts with the type of group, currently ''MODP'' or ''ECP'' (implies ECP random).
+
+          * This is followed by ''-NN'', where ''NN'' is the group length in bits.
+
+          * this is followed by ''-PRIME-NN'' for groups with prime order subgroups, where ''NN'' is the subgroup length in bits.
+
+          As additional algorithms are added to the above reference, this data model will be extended according to the above conventions.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedDiffieHellmanGroupTransforms() {
+		return supportedDiffieHellmanGroupTransforms == null ? Collections.emptyList() : supportedDiffieHellmanGroupTransforms;
+	}
+
 	/**
 	 * Set the supported Diffie-Hellman group transforms {{bibref|IKEv2-params|Transform Type 4}}.  
 
@@ -656,6 +793,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public void  setSupportedDiffieHellmanGroupTransforms(Collection<String> supportedDiffieHellmanGroupTransforms) {
 		this.supportedDiffieHellmanGroupTransforms = supportedDiffieHellmanGroupTransforms;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -679,6 +817,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public IPsec withSupportedDiffieHellmanGroupTransforms(String string) {
 		getSupportedDiffieHellmanGroupTransforms().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -704,6 +843,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public void  setMaxFilterEntries(Long maxFilterEntries) {
 		this.maxFilterEntries = maxFilterEntries;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -717,6 +857,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public IPsec withMaxFilterEntries(Long maxFilterEntries) {
 		this.maxFilterEntries = maxFilterEntries;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -742,6 +883,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public void  setMaxProfileEntries(Long maxProfileEntries) {
 		this.maxProfileEntries = maxProfileEntries;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -755,6 +897,7 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 */
 	public IPsec withMaxProfileEntries(Long maxProfileEntries) {
 		this.maxProfileEntries = maxProfileEntries;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -803,10 +946,24 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 * @return the value
 	 */
 	public Collection<Filter> getFilters() {
-		if (this.filters == null){ this.filters=new ArrayList<>();}
+		if (!(this.filters instanceof InstanceTable)){ this.filters=InstanceTable.of(this.filters);}
 		return filters;
 	}
 
+	/**
+	 * Read the filter table that represents the IPsec Security Policy Database (SPD) {{bibref|RFC4301|Section 4.4.1}} selection criteria.  Each (ordered) entry defines a set of selection criteria and references a {{object|#.Profile}} table entry that specifies how matching packets will be processed.
+
+        SPD filtering is performed for all packets that might need to cross the IPsec boundary {{bibref|RFC4301|Section 3.1}}.  Given that IPsec operates at the IP level, this means that SPD filtering conceptually occurs after bridging and before routing.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference and {{param|AllInterfaces}} is {{false}}, then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Filter> viewFilters() {
+		return filters == null ? Collections.emptyList() : filters;
+	}
+
 	/**
 	 * Set the filter table that represents the IPsec Security Policy Database (SPD) {{bibref|RFC4301|Section 4.4.1}} selection criteria.  Each (ordered) entry defines a set of selection criteria and references a {{object|#.Profile}} table entry that specifies how matching packets will be processed.
 
@@ -841,10 +998,20 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 * @return the value
 	 */
 	public Collection<Profile> getProfiles() {
-		if (this.profiles == null){ this.profiles=new ArrayList<>();}
+		if (!(this.profiles instanceof InstanceTable)){ this.profiles=InstanceTable.of(this.profiles);}
 		return profiles;
 	}
 
+	/**
+	 * Read the profile table that represents the IPsec Security Policy Database (SPD) {{bibref|RFC4301|Section 4.4.1}} processing info.  Each entry defines the IPsec treatment for packets that match the {{object|#.Filter}} entries that reference the entry.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Profile> viewProfiles() {
+		return profiles == null ? Collections.emptyList() : profiles;
+	}
+
 	/**
 	 * Set the profile table that represents the IPsec Security Policy Database (SPD) {{bibref|RFC4301|Section 4.4.1}} processing info.  Each entry defines the IPsec treatment for packets that match the {{object|#.Filter}} entries that reference the entry.
 	 *
@@ -875,10 +1042,24 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 * @return the value
 	 */
 	public Collection<Tunnel> getTunnels() {
-		if (this.tunnels == null){ this.tunnels=new ArrayList<>();}
+		if (!(this.tunnels instanceof InstanceTable)){ this.tunnels=InstanceTable.of(this.tunnels);}
 		return tunnels;
 	}
 
+	/**
+	 * Read the represents an IPsec tunnel, i.e. a virtual IP interface that models an IPsec tunnel entry point and exit point.  A {{object}} instance always references (and has the same lifetime as) a ({{enum|Tunnel|.IP.Interface.{i}.Type}},{{enum|Tunneled|.IP.Interface.{i}.Type}}) {{object|.IP.Interface}} pair.  The {{object}} instance models the IPsec-specific concepts, the {{enum|Tunnel|.IP.Interface.{i}.Type}} {{object|.IP.Interface}} instance models the generic concepts, and the {{enum|Tunneled|.IP.Interface.{i}.Type}} {{object|.IP.Interface}} instance exists only so it can be referenced by forwarding or filter rules.
+
+        {{object}} instances are automatically created (as needed) when {{object|#.Filter}} instances are enabled and disabled.
+
+        Each instance's {{param|Filters}} parameter references the {{object|#.Filter}} instances that require the {{object}} instance to exist.  If this list ever becomes {{empty}}, e.g. because all the referenced {{object|#.Filter}} instances have been disabled or deleted, the CPE MAY choose not to delete the {{object}} instance (and its associated ({{enum|Tunnel|.IP.Interface.{i}.Type}},{{enum|Tunneled|.IP.Interface.{i}.Type}}) {{object|.IP.Interface}} pair).  This can be desirable, because {{object|.QoS.Classification}}, {{object|.Routing.Router.{i}.IPv4Forwarding}}, {{object|.Routing.Router.{i}.IPv6Forwarding}} etc instances might be referencing the {{object|.IP.Interface}} instances.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Tunnel> viewTunnels() {
+		return tunnels == null ? Collections.emptyList() : tunnels;
+	}
+
 	/**
 	 * Set the represents an IPsec tunnel, i.e. a virtual IP interface that models an IPsec tunnel entry point and exit point.  A {{object}} instance always references (and has the same lifetime as) a ({{enum|Tunnel|.IP.Interface.{i}.Type}},{{enum|Tunneled|.IP.Interface.{i}.Type}}) {{object|.IP.Interface}} pair.  The {{object}} instance models the IPsec-specific concepts, the {{enum|Tunnel|.IP.Interface.{i}.Type}} {{object|.IP.Interface}} instance models the generic concepts, and the {{enum|Tunneled|.IP.Interface.{i}.Type}} {{object|.IP.Interface}} instance exists only so it can be referenced by forwarding or filter rules.
 
@@ -913,10 +1094,20 @@ Enumerated value must be one of [NONE, MODP-768, MODP-1024, MODP-1536, MODP-2048
 	 * @return the value
 	 */
 	public Collection<IKEv2SA> getIkev2SAs() {
-		if (this.ikev2SAs == null){ this.ikev2SAs=new ArrayList<>();}
+		if (!(this.ikev2SAs instanceof InstanceTable)){ this.ikev2SAs=InstanceTable.of(this.ikev2SAs);}
 		return ikev2SAs;
 	}
 
+	/**
+	 * Read the represents an IKEv2 Security Association (SA), corresponding to an IKEv2 session.  Instances are automatically created and deleted as IKEv2 SAs are created and deleted.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IKEv2SA> viewIkev2SAs() {
+		return ikev2SAs == null ? Collections.emptyList() : ikev2SAs;
+	}
+
 	/**
 	 * Set the represents an IKEv2 Security Association (SA), corresponding to an IKEv2 session.  Instances are automatically created and deleted as IKEv2 SAs are created and deleted.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ipv6rd.InterfaceSetting;
 
 	/**
@@ -63,6 +65,11 @@ public class IPv6rd {
 	@XmlElement(name = "InterfaceSetting")
 	public Collection<InterfaceSetting> interfaceSettings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPv6rd() {
 	}
 
@@ -85,6 +92,7 @@ public class IPv6rd {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -96,6 +104,7 @@ public class IPv6rd {
 	 */
 	public IPv6rd withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,10 +122,28 @@ public class IPv6rd {
 	 * @return the value
 	 */
 	public Collection<InterfaceSetting> getInterfaceSettings() {
-		if (this.interfaceSettings == null){ this.interfaceSettings=new ArrayList<>();}
+		if (!(this.interfaceSettings instanceof InstanceTable)){ this.interfaceSettings=InstanceTable.of(this.interfaceSettings);}
 		return interfaceSettings;
 	}
 
+	/**
+	 * Read the 6rd {{bibref|RFC5969}} settings.
+
+        A 6rd delegated prefix is expected to be of maximum length 64 bits, and is the concatenation of the following two items:
+
+        * Service provider IPv6 prefix: specified via the {{param|SPIPv6Prefix}} parameter
+
+        * IPv4 address suffix: the IPv4 address with the first {{param|IPv4MaskLength}} bits removed
+
+        This object definition is derived from {{bibref|RFC5969}} with some minor nomenclature changes.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InterfaceSetting> viewInterfaceSettings() {
+		return interfaceSettings == null ? Collections.emptyList() : interfaceSettings;
+	}
+
 	/**
 	 * Set the 6rd {{bibref|RFC5969}} settings.
 
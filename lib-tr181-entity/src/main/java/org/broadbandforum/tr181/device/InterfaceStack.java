@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains information about the relationships between the multiple layers of interface objects ({{bibref|TR-181i2|Section 4.3}}). In particular, it contains information on which interfaces run ''on top of'' which other interfaces.
@@ -87,6 +89,16 @@ public class InterfaceStack {
 	@Size(max = 64)
 	public String lowerAlias;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterfaceStack() {
 	}
 
@@ -109,6 +121,8 @@ public class InterfaceStack {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -120,6 +134,8 @@ public class InterfaceStack {
 	 */
 	public InterfaceStack withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -145,6 +161,8 @@ public class InterfaceStack {
 	 */
 	public void  setHigherLayer(String higherLayer) {
 		this.higherLayer = higherLayer;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -158,6 +176,8 @@ public class InterfaceStack {
 	 */
 	public InterfaceStack withHigherLayer(String higherLayer) {
 		this.higherLayer = higherLayer;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -183,6 +203,8 @@ public class InterfaceStack {
 	 */
 	public void  setLowerLayer(String lowerLayer) {
 		this.lowerLayer = lowerLayer;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -196,6 +218,8 @@ public class InterfaceStack {
 	 */
 	public InterfaceStack withLowerLayer(String lowerLayer) {
 		this.lowerLayer = lowerLayer;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -217,6 +241,7 @@ public class InterfaceStack {
 	 */
 	public void  setHigherAlias(String higherAlias) {
 		this.higherAlias = higherAlias;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -228,6 +253,7 @@ public class InterfaceStack {
 	 */
 	public InterfaceStack withHigherAlias(String higherAlias) {
 		this.higherAlias = higherAlias;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -249,6 +275,7 @@ public class InterfaceStack {
 	 */
 	public void  setLowerAlias(String lowerAlias) {
 		this.lowerAlias = lowerAlias;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -260,6 +287,7 @@ public class InterfaceStack {
 	 */
 	public InterfaceStack withLowerAlias(String lowerAlias) {
 		this.lowerAlias = lowerAlias;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
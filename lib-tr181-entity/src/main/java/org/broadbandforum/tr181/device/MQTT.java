@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.mqtt.Broker;
 import org.broadbandforum.tr181.device.mqtt.Capabilities;
 import org.broadbandforum.tr181.device.mqtt.Client;
@@ -99,10 +100,20 @@ public class MQTT {
 	 * @return the value
 	 */
 	public Collection<Client> getClients() {
-		if (this.clients == null){ this.clients=new ArrayList<>();}
+		if (!(this.clients instanceof InstanceTable)){ this.clients=InstanceTable.of(this.clients);}
 		return clients;
 	}
 
+	/**
+	 * Read the mqtT client table. Contains a list of configured MQTT clients.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Client> viewClients() {
+		return clients == null ? Collections.emptyList() : clients;
+	}
+
 	/**
 	 * Set the mqtT client table. Contains a list of configured MQTT clients.
 	 *
@@ -129,10 +140,20 @@ public class MQTT {
 	 * @return the value
 	 */
 	public Collection<Broker> getBrokers() {
-		if (this.brokers == null){ this.brokers=new ArrayList<>();}
+		if (!(this.brokers instanceof InstanceTable)){ this.brokers=InstanceTable.of(this.brokers);}
 		return brokers;
 	}
 
+	/**
+	 * Read the mqtT broker table. Contains a list of configured MQTT brokers.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Broker> viewBrokers() {
+		return brokers == null ? Collections.emptyList() : brokers;
+	}
+
 	/**
 	 * Set the mqtT broker table. Contains a list of configured MQTT brokers.
 	 *
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.managementserver.AutonomousTransferCompletePolicy;
 import org.broadbandforum.tr181.device.managementserver.DUStateChangeComplPolicy;
 import org.broadbandforum.tr181.device.managementserver.DownloadAvailability;
@@ -113,6 +118,7 @@ public class ManagementServer {
 	 * @since 2.10
 	 */
 	@XmlElement(name = "ScheduleReboot")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime scheduleReboot;
 	/**
@@ -157,6 +163,7 @@ public class ManagementServer {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "PeriodicInformTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicInformTime;
 	/**
@@ -607,6 +614,11 @@ Enumerated value must be one of [UDP]
 	@CWMPParameter(access = "readWrite")
 	public Collection<InformParameter> informParameters;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ManagementServer() {
 	}
 
@@ -641,6 +653,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setEnableCWMP(Boolean enableCWMP) {
 		this.enableCWMP = enableCWMP;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -658,6 +671,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withEnableCWMP(Boolean enableCWMP) {
 		this.enableCWMP = enableCWMP;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -691,6 +705,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -708,6 +723,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -737,6 +753,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -752,6 +769,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -781,6 +799,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -796,6 +815,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -825,6 +845,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setScheduleReboot(LocalDateTime scheduleReboot) {
 		this.scheduleReboot = scheduleReboot;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -840,6 +861,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withScheduleReboot(LocalDateTime scheduleReboot) {
 		this.scheduleReboot = scheduleReboot;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -865,6 +887,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setDelayReboot(Integer delayReboot) {
 		this.delayReboot = delayReboot;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -878,6 +901,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withDelayReboot(Integer delayReboot) {
 		this.delayReboot = delayReboot;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -899,6 +923,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -910,6 +935,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withPeriodicInformEnable(Boolean periodicInformEnable) {
 		this.periodicInformEnable = periodicInformEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -931,6 +957,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -942,6 +969,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withPeriodicInformInterval(Long periodicInformInterval) {
 		this.periodicInformInterval = periodicInformInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -979,6 +1007,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -998,6 +1027,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withPeriodicInformTime(LocalDateTime periodicInformTime) {
 		this.periodicInformTime = periodicInformTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -1027,6 +1057,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -1042,6 +1073,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withParameterKey(String parameterKey) {
 		this.parameterKey = parameterKey;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -1079,6 +1111,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -1098,6 +1131,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withConnectionRequestURL(String connectionRequestURL) {
 		this.connectionRequestURL = connectionRequestURL;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -1119,6 +1153,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -1130,6 +1165,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withConnectionRequestUsername(String connectionRequestUsername) {
 		this.connectionRequestUsername = connectionRequestUsername;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1151,6 +1187,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1162,6 +1199,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withConnectionRequestPassword(String connectionRequestPassword) {
 		this.connectionRequestPassword = connectionRequestPassword;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1187,6 +1225,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1200,6 +1239,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withUpgradesManaged(Boolean upgradesManaged) {
 		this.upgradesManaged = upgradesManaged;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1225,6 +1265,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1238,6 +1279,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withKickURL(String kickURL) {
 		this.kickURL = kickURL;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1263,6 +1305,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1276,6 +1319,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withDownloadProgressURL(String downloadProgressURL) {
 		this.downloadProgressURL = downloadProgressURL;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1309,6 +1353,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setDefaultActiveNotificationThrottle(Long defaultActiveNotificationThrottle) {
 		this.defaultActiveNotificationThrottle = defaultActiveNotificationThrottle;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1326,6 +1371,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withDefaultActiveNotificationThrottle(Long defaultActiveNotificationThrottle) {
 		this.defaultActiveNotificationThrottle = defaultActiveNotificationThrottle;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1355,6 +1401,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setCwmPRetryMinimumWaitInterval(Long cwmPRetryMinimumWaitInterval) {
 		this.cwmPRetryMinimumWaitInterval = cwmPRetryMinimumWaitInterval;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1370,6 +1417,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withCwmPRetryMinimumWaitInterval(Long cwmPRetryMinimumWaitInterval) {
 		this.cwmPRetryMinimumWaitInterval = cwmPRetryMinimumWaitInterval;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1403,6 +1451,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setCwmPRetryIntervalMultiplier(Long cwmPRetryIntervalMultiplier) {
 		this.cwmPRetryIntervalMultiplier = cwmPRetryIntervalMultiplier;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1420,6 +1469,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withCwmPRetryIntervalMultiplier(Long cwmPRetryIntervalMultiplier) {
 		this.cwmPRetryIntervalMultiplier = cwmPRetryIntervalMultiplier;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1469,6 +1519,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setUdpConnectionRequestAddress(String udpConnectionRequestAddress) {
 		this.udpConnectionRequestAddress = udpConnectionRequestAddress;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1494,6 +1545,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withUdpConnectionRequestAddress(String udpConnectionRequestAddress) {
 		this.udpConnectionRequestAddress = udpConnectionRequestAddress;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1515,6 +1567,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1526,6 +1579,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withStuNEnable(Boolean stuNEnable) {
 		this.stuNEnable = stuNEnable;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1551,6 +1605,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setStuNServerAddress(String stuNServerAddress) {
 		this.stuNServerAddress = stuNServerAddress;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1564,6 +1619,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withStuNServerAddress(String stuNServerAddress) {
 		this.stuNServerAddress = stuNServerAddress;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1589,6 +1645,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setStuNServerPort(Long stuNServerPort) {
 		this.stuNServerPort = stuNServerPort;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1602,6 +1659,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withStuNServerPort(Long stuNServerPort) {
 		this.stuNServerPort = stuNServerPort;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1627,6 +1685,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setStuNUsername(String stuNUsername) {
 		this.stuNUsername = stuNUsername;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1640,6 +1699,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withStuNUsername(String stuNUsername) {
 		this.stuNUsername = stuNUsername;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1661,6 +1721,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setStuNPassword(String stuNPassword) {
 		this.stuNPassword = stuNPassword;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1672,6 +1733,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withStuNPassword(String stuNPassword) {
 		this.stuNPassword = stuNPassword;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1697,6 +1759,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setStuNMaximumKeepAlivePeriod(Integer stuNMaximumKeepAlivePeriod) {
 		this.stuNMaximumKeepAlivePeriod = stuNMaximumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1710,6 +1773,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withStuNMaximumKeepAlivePeriod(Integer stuNMaximumKeepAlivePeriod) {
 		this.stuNMaximumKeepAlivePeriod = stuNMaximumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1731,6 +1795,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setStuNMinimumKeepAlivePeriod(Long stuNMinimumKeepAlivePeriod) {
 		this.stuNMinimumKeepAlivePeriod = stuNMinimumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1742,6 +1807,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withStuNMinimumKeepAlivePeriod(Long stuNMinimumKeepAlivePeriod) {
 		this.stuNMinimumKeepAlivePeriod = stuNMinimumKeepAlivePeriod;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1771,6 +1837,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setNatDetected(Boolean natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1786,6 +1853,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withNatDetected(Boolean natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1811,6 +1879,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setAliasBasedAddressing(Boolean aliasBasedAddressing) {
 		this.aliasBasedAddressing = aliasBasedAddressing;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1824,6 +1893,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withAliasBasedAddressing(Boolean aliasBasedAddressing) {
 		this.aliasBasedAddressing = aliasBasedAddressing;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1849,6 +1919,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setInstanceMode(String instanceMode) {
 		this.instanceMode = instanceMode;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1862,6 +1933,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withInstanceMode(String instanceMode) {
 		this.instanceMode = instanceMode;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1895,6 +1967,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setAutoCreateInstances(Boolean autoCreateInstances) {
 		this.autoCreateInstances = autoCreateInstances;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1912,6 +1985,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withAutoCreateInstances(Boolean autoCreateInstances) {
 		this.autoCreateInstances = autoCreateInstances;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1933,6 +2007,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setManageableDeviceNotificationLimit(Long manageableDeviceNotificationLimit) {
 		this.manageableDeviceNotificationLimit = manageableDeviceNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1944,6 +2019,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withManageableDeviceNotificationLimit(Long manageableDeviceNotificationLimit) {
 		this.manageableDeviceNotificationLimit = manageableDeviceNotificationLimit;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1960,6 +2036,19 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 		return supportedConnReqMethods;
 	}
 
+	/**
+	 * Read the connection request methods supported by this {{object}}. 
+
+Enumerated value must be one of [HTTP, STUN, XMPP]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedConnReqMethods() {
+		return supportedConnReqMethods == null ? Collections.emptyList() : supportedConnReqMethods;
+	}
+
 	/**
 	 * Set the connection request methods supported by this {{object}}. 
 
@@ -1970,6 +2059,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public void  setSupportedConnReqMethods(Collection<String> supportedConnReqMethods) {
 		this.supportedConnReqMethods = supportedConnReqMethods;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1983,6 +2073,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public ManagementServer withSupportedConnReqMethods(String string) {
 		getSupportedConnReqMethods().add(string);
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -2004,6 +2095,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public void  setConnReqXMPPConnection(String connReqXMPPConnection) {
 		this.connReqXMPPConnection = connReqXMPPConnection;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -2015,6 +2107,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public ManagementServer withConnReqXMPPConnection(String connReqXMPPConnection) {
 		this.connReqXMPPConnection = connReqXMPPConnection;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -2049,6 +2142,37 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 		return connReqAllowedJabberIDs;
 	}
 
+	/**
+	 * Read the when an XMPP Connection Request is sent to a CPE the XMPP IQ Stanza will contian a "from" address that contains the Jabber ID of the initiating entity.
+
+          This parameter is a {{list}} Each entry represents a Jabber ID, or address, that is allowed to initiate an XMPP Connection Request.  
+
+          Each Jabber ID is allowed to be either a "Full JID" (containing a local-part, domain-part, and resource-part in the following format: "local-part@domain-part/resource-part") or a "Bare JID" (containing a local-part and a domain-part in the following format: "local-part@domain-part").  "Full JID" entries require an exact match whereas "Bare JID" entries are a wildcard match and will match any Jabber ID with the same local-part and domain-part independent of the resource-part.
+
+          For example, if {{param}} contained "ACS1@tr069.example.com, ACS2@tr-069.example.com/resource1" then the following incoming "from" addresses would be '''allowed''': 
+
+          * "ACS1@tr069.example.com/resource1"
+
+          * "ACS1@tr069.example.com/resource2"
+
+          * "ACS2@tr069.example.com/resource1"
+
+          And the following incoming "from" addresses '''would not be allowed''': 
+
+          * "ACS2@tr069.example.com/resource2"
+
+          * "ACS@tr069.example.com/resource"  
+
+          If this Parameter is {{empty}} then all Jabber IDs are allowed and an XMPP Connection Request can not be deemed invalid due to the "from" address.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewConnReqAllowedJabberIDs() {
+		return connReqAllowedJabberIDs == null ? Collections.emptyList() : connReqAllowedJabberIDs;
+	}
+
 	/**
 	 * Set the when an XMPP Connection Request is sent to a CPE the XMPP IQ Stanza will contian a "from" address that contains the Jabber ID of the initiating entity.
 
@@ -2077,6 +2201,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public void  setConnReqAllowedJabberIDs(Collection<String> connReqAllowedJabberIDs) {
 		this.connReqAllowedJabberIDs = connReqAllowedJabberIDs;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -2108,6 +2233,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public ManagementServer withConnReqAllowedJabberIDs(String string) {
 		getConnReqAllowedJabberIDs().add(string);
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -2137,6 +2263,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public void  setConnReqJabberID(String connReqJabberID) {
 		this.connReqJabberID = connReqJabberID;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -2152,6 +2279,7 @@ Enumerated value must be one of [HTTP, STUN, XMPP]
 	 */
 	public ManagementServer withConnReqJabberID(String connReqJabberID) {
 		this.connReqJabberID = connReqJabberID;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -2170,6 +2298,21 @@ Enumerated value must be one of [GZIP, Compress, Deflate]
 		return httPCompressionSupported;
 	}
 
+	/**
+	 * Read the indicates the HTTP Compression mechanism(s) supported by this CPE.  Requirements for the use of HTTP Compression for CWMP can be found in {{bibref|TR-069a5|Section 3.4.7}}. 
+
+Enumerated value must be one of [GZIP, Compress, Deflate]
+
+          Vendors can extend the enumerated values with vendor specific extensions, in which case the rules outlined in {{bibref|TR-106a7|Section 3.3}} MUST be adhered to.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHttPCompressionSupported() {
+		return httPCompressionSupported == null ? Collections.emptyList() : httPCompressionSupported;
+	}
+
 	/**
 	 * Set the indicates the HTTP Compression mechanism(s) supported by this CPE.  Requirements for the use of HTTP Compression for CWMP can be found in {{bibref|TR-069a5|Section 3.4.7}}. 
 
@@ -2182,6 +2325,7 @@ Enumerated value must be one of [GZIP, Compress, Deflate]
 	 */
 	public void  setHttPCompressionSupported(Collection<String> httPCompressionSupported) {
 		this.httPCompressionSupported = httPCompressionSupported;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -2197,6 +2341,7 @@ Enumerated value must be one of [GZIP, Compress, Deflate]
 	 */
 	public ManagementServer withHttPCompressionSupported(String string) {
 		getHttPCompressionSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -2218,6 +2363,7 @@ Enumerated value must be one of [GZIP, Compress, Deflate]
 	 */
 	public void  setHttPCompression(String httPCompression) {
 		this.httPCompression = httPCompression;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -2229,6 +2375,7 @@ Enumerated value must be one of [GZIP, Compress, Deflate]
 	 */
 	public ManagementServer withHttPCompression(String httPCompression) {
 		this.httPCompression = httPCompression;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -2247,6 +2394,21 @@ Enumerated value must be one of [UDP]
 		return lightweightNotificationProtocolsSupported;
 	}
 
+	/**
+	 * Read the indicates the Lightweight Notification Protocol(s) supported by this CPE.  
+
+Enumerated value must be one of [UDP]
+
+          Vendors can extend the enumerated values with vendor specific extensions, in which case the rules outlined in {{bibref|TR-106a7|Section 3.3}} MUST be adhered to.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLightweightNotificationProtocolsSupported() {
+		return lightweightNotificationProtocolsSupported == null ? Collections.emptyList() : lightweightNotificationProtocolsSupported;
+	}
+
 	/**
 	 * Set the indicates the Lightweight Notification Protocol(s) supported by this CPE.  
 
@@ -2259,6 +2421,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setLightweightNotificationProtocolsSupported(Collection<String> lightweightNotificationProtocolsSupported) {
 		this.lightweightNotificationProtocolsSupported = lightweightNotificationProtocolsSupported;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -2274,6 +2437,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withLightweightNotificationProtocolsSupported(String string) {
 		getLightweightNotificationProtocolsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -2290,6 +2454,19 @@ Enumerated value must be one of [UDP]
 		return lightweightNotificationProtocolsUsed;
 	}
 
+	/**
+	 * Read the value of this parameter represents the protocol(s) that will be used by the CPE when sending Lightweight Notifications.
+
+          {{empty}} means that Lightweight Notifications are disabled, despite any SetParameterAttributes that have been configured on various parameters.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLightweightNotificationProtocolsUsed() {
+		return lightweightNotificationProtocolsUsed == null ? Collections.emptyList() : lightweightNotificationProtocolsUsed;
+	}
+
 	/**
 	 * Set the value of this parameter represents the protocol(s) that will be used by the CPE when sending Lightweight Notifications.
 
@@ -2300,6 +2477,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setLightweightNotificationProtocolsUsed(Collection<String> lightweightNotificationProtocolsUsed) {
 		this.lightweightNotificationProtocolsUsed = lightweightNotificationProtocolsUsed;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -2313,6 +2491,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withLightweightNotificationProtocolsUsed(String string) {
 		getLightweightNotificationProtocolsUsed().add(string);
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -2342,6 +2521,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setUdpLightweightNotificationHost(String udpLightweightNotificationHost) {
 		this.udpLightweightNotificationHost = udpLightweightNotificationHost;
+		if (this.dirty != null){ this.dirty.set(40);}
 	}
 
 	/**
@@ -2357,6 +2537,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withUdpLightweightNotificationHost(String udpLightweightNotificationHost) {
 		this.udpLightweightNotificationHost = udpLightweightNotificationHost;
+		if (this.dirty != null){ this.dirty.set(40);}
 		return this;
 	}
 
@@ -2386,6 +2567,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public void  setUdpLightweightNotificationPort(Long udpLightweightNotificationPort) {
 		this.udpLightweightNotificationPort = udpLightweightNotificationPort;
+		if (this.dirty != null){ this.dirty.set(41);}
 	}
 
 	/**
@@ -2401,6 +2583,7 @@ Enumerated value must be one of [UDP]
 	 */
 	public ManagementServer withUdpLightweightNotificationPort(Long udpLightweightNotificationPort) {
 		this.udpLightweightNotificationPort = udpLightweightNotificationPort;
+		if (this.dirty != null){ this.dirty.set(41);}
 		return this;
 	}
 
@@ -2410,10 +2593,20 @@ Enumerated value must be one of [UDP]
 	 * @return the value
 	 */
 	public Collection<ManageableDevice> getManageableDevices() {
-		if (this.manageableDevices == null){ this.manageableDevices=new ArrayList<>();}
+		if (!(this.manageableDevices instanceof InstanceTable)){ this.manageableDevices=InstanceTable.of(this.manageableDevices);}
 		return manageableDevices;
 	}
 
+	/**
+	 * Read the each entry in this table corresponds to a distinct LAN Device that supports Device-Gateway Association according to {{bibref|TR-069a2|Annex F}} as indicated by the presence of the DHCP option specified in that Annex.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ManageableDevice> viewManageableDevices() {
+		return manageableDevices == null ? Collections.emptyList() : manageableDevices;
+	}
+
 	/**
 	 * Set the each entry in this table corresponds to a distinct LAN Device that supports Device-Gateway Association according to {{bibref|TR-069a2|Annex F}} as indicated by the presence of the DHCP option specified in that Annex.
 	 *
@@ -2539,10 +2732,20 @@ Enumerated value must be one of [UDP]
 	 * @return the value
 	 */
 	public Collection<EmbeddedDevice> getEmbeddedDevices() {
-		if (this.embeddedDevices == null){ this.embeddedDevices=new ArrayList<>();}
+		if (!(this.embeddedDevices instanceof InstanceTable)){ this.embeddedDevices=InstanceTable.of(this.embeddedDevices);}
 		return embeddedDevices;
 	}
 
+	/**
+	 * Read the each entry in this table represents a distinct Proxied Device that utilizes the Embedded Object Mechanism {{bibref|TR-069a4|Annex J.1.2}} for proxying devices.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<EmbeddedDevice> viewEmbeddedDevices() {
+		return embeddedDevices == null ? Collections.emptyList() : embeddedDevices;
+	}
+
 	/**
 	 * Set the each entry in this table represents a distinct Proxied Device that utilizes the Embedded Object Mechanism {{bibref|TR-069a4|Annex J.1.2}} for proxying devices.
 	 *
@@ -2569,10 +2772,20 @@ Enumerated value must be one of [UDP]
 	 * @return the value
 	 */
 	public Collection<VirtualDevice> getVirtualDevices() {
-		if (this.virtualDevices == null){ this.virtualDevices=new ArrayList<>();}
+		if (!(this.virtualDevices instanceof InstanceTable)){ this.virtualDevices=InstanceTable.of(this.virtualDevices);}
 		return virtualDevices;
 	}
 
+	/**
+	 * Read the each entry in this table represents a distinct Proxied Device that utilizes the Virtual CWMP Device Mechanism {{bibref|TR-069a4|Annex I.1.1}} for proxying devices.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VirtualDevice> viewVirtualDevices() {
+		return virtualDevices == null ? Collections.emptyList() : virtualDevices;
+	}
+
 	/**
 	 * Set the each entry in this table represents a distinct Proxied Device that utilizes the Virtual CWMP Device Mechanism {{bibref|TR-069a4|Annex I.1.1}} for proxying devices.
 	 *
@@ -2638,10 +2851,24 @@ Enumerated value must be one of [UDP]
 	 * @return the value
 	 */
 	public Collection<InformParameter> getInformParameters() {
-		if (this.informParameters == null){ this.informParameters=new ArrayList<>();}
+		if (!(this.informParameters instanceof InstanceTable)){ this.informParameters=InstanceTable.of(this.informParameters);}
 		return informParameters;
 	}
 
+	/**
+	 * Read the this table provides the ACS with the ability to control the Parameters that are delivered by the Inform RPC.
+
+        Any Parameter (identified by {{param|ParameterName}}) contained in this table MUST be included within the ParameterList argument of the Inform RPC whenever any Event within the {{param|EventList}} is being delivered. 
+
+        This table does not include Forced Inform Parameters, and Forced Inform Parameters are not allowed to be inserted into this table.  Any attempt by an ACS to configure this table to contain a Forced Inform Parameter MUST result in the failure of the SetParameterValues RPC with error code 9007.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InformParameter> viewInformParameters() {
+		return informParameters == null ? Collections.emptyList() : informParameters;
+	}
+
 	/**
 	 * Set the this table provides the ACS with the ability to control the Parameters that are delivered by the Inform RPC.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.nat.InterfaceSetting;
 import org.broadbandforum.tr181.device.nat.PortMapping;
 
@@ -82,10 +83,24 @@ public class NAT {
 	 * @return the value
 	 */
 	public Collection<InterfaceSetting> getInterfaceSettings() {
-		if (this.interfaceSettings == null){ this.interfaceSettings=new ArrayList<>();}
+		if (!(this.interfaceSettings instanceof InstanceTable)){ this.interfaceSettings=InstanceTable.of(this.interfaceSettings);}
 		return interfaceSettings;
 	}
 
+	/**
+	 * Read the nat settings for an associated IP Interface on which NAT is enabled.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes a unique key parameter that is a strong reference. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}} and disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InterfaceSetting> viewInterfaceSettings() {
+		return interfaceSettings == null ? Collections.emptyList() : interfaceSettings;
+	}
+
 	/**
 	 * Set the nat settings for an associated IP Interface on which NAT is enabled.
 
@@ -128,10 +143,28 @@ public class NAT {
 	 * @return the value
 	 */
 	public Collection<PortMapping> getPortMappings() {
-		if (this.portMappings == null){ this.portMappings=new ArrayList<>();}
+		if (!(this.portMappings instanceof InstanceTable)){ this.portMappings=InstanceTable.of(this.portMappings);}
 		return portMappings;
 	}
 
+	/**
+	 * Read the port mapping table.
+
+        This table MUST contain all NAT port mappings associated with this connection, including static and dynamic port mappings programmatically created via local control protocol, such as UPnP.
+
+        This table MUST NOT contain dynamic NAT binding entries associated with the normal operation of NAT.
+
+        If the CPE hosts a firewall, it is assumed that it will appropriately configure the firewall for the port mapping.
+
+        For enabled table entries, if {{param|InternalClient}} is {{empty}}, or if {{param|Interface}} is not a valid reference and {{param|AllInterfaces}} is {{false}}, then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PortMapping> viewPortMappings() {
+		return portMappings == null ? Collections.emptyList() : portMappings;
+	}
+
 	/**
 	 * Set the port mapping table.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.pcp.Client;
 
 	/**
@@ -78,6 +80,11 @@ public class PCP {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Client> clients;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PCP() {
 	}
 
@@ -104,6 +111,7 @@ public class PCP {
 	 */
 	public void  setSupportedVersions(Long supportedVersions) {
 		this.supportedVersions = supportedVersions;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -117,6 +125,7 @@ public class PCP {
 	 */
 	public PCP withSupportedVersions(Long supportedVersions) {
 		this.supportedVersions = supportedVersions;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -142,6 +151,7 @@ public class PCP {
 	 */
 	public void  setPreferredVersion(Long preferredVersion) {
 		this.preferredVersion = preferredVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -155,6 +165,7 @@ public class PCP {
 	 */
 	public PCP withPreferredVersion(Long preferredVersion) {
 		this.preferredVersion = preferredVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -176,6 +187,7 @@ public class PCP {
 	 */
 	public void  setOptionList(Long optionList) {
 		this.optionList = optionList;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -187,6 +199,7 @@ public class PCP {
 	 */
 	public PCP withOptionList(Long optionList) {
 		this.optionList = optionList;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -196,10 +209,20 @@ public class PCP {
 	 * @return the value
 	 */
 	public Collection<Client> getClients() {
-		if (this.clients == null){ this.clients=new ArrayList<>();}
+		if (!(this.clients instanceof InstanceTable)){ this.clients=InstanceTable.of(this.clients);}
 		return clients;
 	}
 
+	/**
+	 * Read the client properties for Port Control Protocol (PCP). The PCP Client interacts with a PCP Server as defined in {{bibref|RFC6887}} for internal device applications or LAN device applications via Interworking functions.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Client> viewClients() {
+		return clients == null ? Collections.emptyList() : clients;
+	}
+
 	/**
 	 * Set the client properties for Port Control Protocol (PCP). The PCP Client interacts with a PCP Server as defined in {{bibref|RFC6887}} for internal device applications or LAN device applications via Interworking functions.
 	 *
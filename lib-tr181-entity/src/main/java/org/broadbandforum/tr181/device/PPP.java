@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ppp.Interface;
 
 	/**
@@ -59,6 +62,11 @@ Enumerated value must be one of [ATCP, IPCP, IPXCP, NBFCP, IPv6CP]
 	@CWMPParameter(access = "readWrite")
 	public Collection<Interface> interfaces;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PPP() {
 	}
 
@@ -78,6 +86,21 @@ Enumerated value must be one of [ATCP, IPCP, IPXCP, NBFCP, IPv6CP]
 		return supportedNCPs;
 	}
 
+	/**
+	 * Read the Network Control Protocols (NCPs) that are supported by the device. 
+
+Enumerated value must be one of [ATCP, IPCP, IPXCP, NBFCP, IPv6CP]
+
+          Note that {{enum|IPv6CP}} is an IPv6 capability.
+	 *
+	 * @since 2.2
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedNCPs() {
+		return supportedNCPs == null ? Collections.emptyList() : supportedNCPs;
+	}
+
 	/**
 	 * Set the Network Control Protocols (NCPs) that are supported by the device. 
 
@@ -90,6 +113,7 @@ Enumerated value must be one of [ATCP, IPCP, IPXCP, NBFCP, IPv6CP]
 	 */
 	public void  setSupportedNCPs(Collection<String> supportedNCPs) {
 		this.supportedNCPs = supportedNCPs;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -105,6 +129,7 @@ Enumerated value must be one of [ATCP, IPCP, IPXCP, NBFCP, IPv6CP]
 	 */
 	public PPP withSupportedNCPs(String string) {
 		getSupportedNCPs().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -114,10 +139,20 @@ Enumerated value must be one of [ATCP, IPCP, IPXCP, NBFCP, IPv6CP]
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the ppp interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the ppp interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.periodicstatistics.SampleSet;
 
 	/**
@@ -68,6 +70,11 @@ public class PeriodicStatistics {
 	@CWMPParameter(access = "readWrite")
 	public Collection<SampleSet> sampleSets;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PeriodicStatistics() {
 	}
 
@@ -94,6 +101,7 @@ public class PeriodicStatistics {
 	 */
 	public void  setMinSampleInterval(Long minSampleInterval) {
 		this.minSampleInterval = minSampleInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -107,6 +115,7 @@ public class PeriodicStatistics {
 	 */
 	public PeriodicStatistics withMinSampleInterval(Long minSampleInterval) {
 		this.minSampleInterval = minSampleInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -132,6 +141,7 @@ public class PeriodicStatistics {
 	 */
 	public void  setMaxReportSamples(Long maxReportSamples) {
 		this.maxReportSamples = maxReportSamples;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -145,6 +155,7 @@ public class PeriodicStatistics {
 	 */
 	public PeriodicStatistics withMaxReportSamples(Long maxReportSamples) {
 		this.maxReportSamples = maxReportSamples;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -154,10 +165,20 @@ public class PeriodicStatistics {
 	 * @return the value
 	 */
 	public Collection<SampleSet> getSampleSets() {
-		if (this.sampleSets == null){ this.sampleSets=new ArrayList<>();}
+		if (!(this.sampleSets instanceof InstanceTable)){ this.sampleSets=InstanceTable.of(this.sampleSets);}
 		return sampleSets;
 	}
 
+	/**
+	 * Read the periodic statistics sample set table.  Each sample set has its own sample interval etc.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SampleSet> viewSampleSets() {
+		return sampleSets == null ? Collections.emptyList() : sampleSets;
+	}
+
 	/**
 	 * Set the periodic statistics sample set table.  Each sample set has its own sample interval etc.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.qos.App;
 import org.broadbandforum.tr181.device.qos.Classification;
 import org.broadbandforum.tr181.device.qos.Flow;
@@ -240,6 +243,11 @@ public class QoS {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Shaper> shapers;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QoS() {
 	}
 
@@ -262,6 +270,7 @@ public class QoS {
 	 */
 	public void  setMaxClassificationEntries(Long maxClassificationEntries) {
 		this.maxClassificationEntries = maxClassificationEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -273,6 +282,7 @@ public class QoS {
 	 */
 	public QoS withMaxClassificationEntries(Long maxClassificationEntries) {
 		this.maxClassificationEntries = maxClassificationEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -294,6 +304,7 @@ public class QoS {
 	 */
 	public void  setMaxAppEntries(Long maxAppEntries) {
 		this.maxAppEntries = maxAppEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -305,6 +316,7 @@ public class QoS {
 	 */
 	public QoS withMaxAppEntries(Long maxAppEntries) {
 		this.maxAppEntries = maxAppEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -326,6 +338,7 @@ public class QoS {
 	 */
 	public void  setMaxFlowEntries(Long maxFlowEntries) {
 		this.maxFlowEntries = maxFlowEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -337,6 +350,7 @@ public class QoS {
 	 */
 	public QoS withMaxFlowEntries(Long maxFlowEntries) {
 		this.maxFlowEntries = maxFlowEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -358,6 +372,7 @@ public class QoS {
 	 */
 	public void  setMaxPolicerEntries(Long maxPolicerEntries) {
 		this.maxPolicerEntries = maxPolicerEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -369,6 +384,7 @@ public class QoS {
 	 */
 	public QoS withMaxPolicerEntries(Long maxPolicerEntries) {
 		this.maxPolicerEntries = maxPolicerEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -390,6 +406,7 @@ public class QoS {
 	 */
 	public void  setMaxQueueEntries(Long maxQueueEntries) {
 		this.maxQueueEntries = maxQueueEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -401,6 +418,7 @@ public class QoS {
 	 */
 	public QoS withMaxQueueEntries(Long maxQueueEntries) {
 		this.maxQueueEntries = maxQueueEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -422,6 +440,7 @@ public class QoS {
 	 */
 	public void  setMaxShaperEntries(Long maxShaperEntries) {
 		this.maxShaperEntries = maxShaperEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -433,6 +452,7 @@ public class QoS {
 	 */
 	public QoS withMaxShaperEntries(Long maxShaperEntries) {
 		this.maxShaperEntries = maxShaperEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -454,6 +474,7 @@ public class QoS {
 	 */
 	public void  setDefaultForwardingPolicy(Long defaultForwardingPolicy) {
 		this.defaultForwardingPolicy = defaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -465,6 +486,7 @@ public class QoS {
 	 */
 	public QoS withDefaultForwardingPolicy(Long defaultForwardingPolicy) {
 		this.defaultForwardingPolicy = defaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -486,6 +508,7 @@ public class QoS {
 	 */
 	public void  setDefaultTrafficClass(Long defaultTrafficClass) {
 		this.defaultTrafficClass = defaultTrafficClass;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -497,6 +520,7 @@ public class QoS {
 	 */
 	public QoS withDefaultTrafficClass(Long defaultTrafficClass) {
 		this.defaultTrafficClass = defaultTrafficClass;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -522,6 +546,7 @@ public class QoS {
 	 */
 	public void  setDefaultPolicer(String defaultPolicer) {
 		this.defaultPolicer = defaultPolicer;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -535,6 +560,7 @@ public class QoS {
 	 */
 	public QoS withDefaultPolicer(String defaultPolicer) {
 		this.defaultPolicer = defaultPolicer;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -556,6 +582,7 @@ public class QoS {
 	 */
 	public void  setDefaultQueue(String defaultQueue) {
 		this.defaultQueue = defaultQueue;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -567,6 +594,7 @@ public class QoS {
 	 */
 	public QoS withDefaultQueue(String defaultQueue) {
 		this.defaultQueue = defaultQueue;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -596,6 +624,7 @@ public class QoS {
 	 */
 	public void  setDefaultDSCPMark(Integer defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -611,6 +640,7 @@ public class QoS {
 	 */
 	public QoS withDefaultDSCPMark(Integer defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -640,6 +670,7 @@ public class QoS {
 	 */
 	public void  setDefaultEthernetPriorityMark(Integer defaultEthernetPriorityMark) {
 		this.defaultEthernetPriorityMark = defaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -655,6 +686,7 @@ public class QoS {
 	 */
 	public QoS withDefaultEthernetPriorityMark(Integer defaultEthernetPriorityMark) {
 		this.defaultEthernetPriorityMark = defaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -684,6 +716,7 @@ public class QoS {
 	 */
 	public void  setDefaultInnerEthernetPriorityMark(Integer defaultInnerEthernetPriorityMark) {
 		this.defaultInnerEthernetPriorityMark = defaultInnerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -699,6 +732,7 @@ public class QoS {
 	 */
 	public QoS withDefaultInnerEthernetPriorityMark(Integer defaultInnerEthernetPriorityMark) {
 		this.defaultInnerEthernetPriorityMark = defaultInnerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -713,6 +747,17 @@ public class QoS {
 		return availableAppList;
 	}
 
+	/**
+	 * Read the {{list}} List items represent URNs, each indicating a protocol supported for use as a ProtocolIdentifier in the App table.  This list MAY include any of the URNs defined in {{bibref|TR-181i2|Annex A}} as well as other URNs defined elsewhere.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAvailableAppList() {
+		return availableAppList == null ? Collections.emptyList() : availableAppList;
+	}
+
 	/**
 	 * Set the {{list}} List items represent URNs, each indicating a protocol supported for use as a ProtocolIdentifier in the App table.  This list MAY include any of the URNs defined in {{bibref|TR-181i2|Annex A}} as well as other URNs defined elsewhere.
 	 *
@@ -721,6 +766,7 @@ public class QoS {
 	 */
 	public void  setAvailableAppList(Collection<String> availableAppList) {
 		this.availableAppList = availableAppList;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -732,6 +778,7 @@ public class QoS {
 	 */
 	public QoS withAvailableAppList(String string) {
 		getAvailableAppList().add(string);
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -745,10 +792,24 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<Classification> getClassifications() {
-		if (this.classifications == null){ this.classifications=new ArrayList<>();}
+		if (!(this.classifications instanceof InstanceTable)){ this.classifications=InstanceTable.of(this.classifications);}
 		return classifications;
 	}
 
+	/**
+	 * Read the classification table.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference and {{param|AllInterfaces}} is {{false}}, then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Several of this object's parameters specify DHCP option values. Some cases are version neutral (the parameter can apply to both DHCPv4 and DHCPv6), but in other cases the representation of the option is different for DHCPv4 and DHCPv6, so it is necessary to define separate DHCPv4-specific and DHCPv6-specific parameters. Therefore, an instance of this object that uses DHCP option values as classification criteria will be associated with either DHCPv4 or DHCPv6, as indicated by the {{param|DHCPType}} parameter.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Classification> viewClassifications() {
+		return classifications == null ? Collections.emptyList() : classifications;
+	}
+
 	/**
 	 * Set the classification table.
 
@@ -783,10 +844,20 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<App> getApps() {
-		if (this.apps == null){ this.apps=new ArrayList<>();}
+		if (!(this.apps instanceof InstanceTable)){ this.apps=InstanceTable.of(this.apps);}
 		return apps;
 	}
 
+	/**
+	 * Get application table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<App> viewApps() {
+		return apps == null ? Collections.emptyList() : apps;
+	}
+
 	/**
 	 * Set application table.
 	 *
@@ -813,10 +884,20 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<Flow> getFlows() {
-		if (this.flows == null){ this.flows=new ArrayList<>();}
+		if (!(this.flows instanceof InstanceTable)){ this.flows=InstanceTable.of(this.flows);}
 		return flows;
 	}
 
+	/**
+	 * Read the flow table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Flow> viewFlows() {
+		return flows == null ? Collections.emptyList() : flows;
+	}
+
 	/**
 	 * Set the flow table.
 	 *
@@ -843,10 +924,20 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<Policer> getPolicers() {
-		if (this.policers == null){ this.policers=new ArrayList<>();}
+		if (!(this.policers instanceof InstanceTable)){ this.policers=InstanceTable.of(this.policers);}
 		return policers;
 	}
 
+	/**
+	 * Read the policer table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Policer> viewPolicers() {
+		return policers == null ? Collections.emptyList() : policers;
+	}
+
 	/**
 	 * Set the policer table.
 	 *
@@ -875,10 +966,22 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<Queue> getQueues() {
-		if (this.queues == null){ this.queues=new ArrayList<>();}
+		if (!(this.queues instanceof InstanceTable)){ this.queues=InstanceTable.of(this.queues);}
 		return queues;
 	}
 
+	/**
+	 * Read the queue table. Each entry is associated with a set of traffic classes, which are specified via the {{param|TrafficClasses}} parameter, and is configured with weight, precedence, drop algorithm, scheduler algorithm etc as appropriate for the traffic classes. An entry can be associated either with all egress interfaces (in which case an actual queue will be instantiated on each egress interface on which traffic of that traffic class can be generated) or else with a single specified egress interface.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference and {{param|AllInterfaces}} is {{false}}, then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Queue> viewQueues() {
+		return queues == null ? Collections.emptyList() : queues;
+	}
+
 	/**
 	 * Set the queue table. Each entry is associated with a set of traffic classes, which are specified via the {{param|TrafficClasses}} parameter, and is configured with weight, precedence, drop algorithm, scheduler algorithm etc as appropriate for the traffic classes. An entry can be associated either with all egress interfaces (in which case an actual queue will be instantiated on each egress interface on which traffic of that traffic class can be generated) or else with a single specified egress interface.
 
@@ -911,10 +1014,22 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<QueueStats> getQueueStatss() {
-		if (this.queueStatss == null){ this.queueStatss=new ArrayList<>();}
+		if (!(this.queueStatss instanceof InstanceTable)){ this.queueStatss=InstanceTable.of(this.queueStatss);}
 		return queueStatss;
 	}
 
+	/**
+	 * Read the queue statistics table. This table is managed by the ACS, which will create entries only for those {Queue, Interface} combinations for which statistics are to be collected.
+
+        Note: The {{object}} table includes unique key parameters that are strong references. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<QueueStats> viewQueueStatss() {
+		return queueStatss == null ? Collections.emptyList() : queueStatss;
+	}
+
 	/**
 	 * Set the queue statistics table. This table is managed by the ACS, which will create entries only for those {Queue, Interface} combinations for which statistics are to be collected.
 
@@ -949,10 +1064,24 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<Shaper> getShapers() {
-		if (this.shapers == null){ this.shapers=new ArrayList<>();}
+		if (!(this.shapers instanceof InstanceTable)){ this.shapers=InstanceTable.of(this.shapers);}
 		return shapers;
 	}
 
+	/**
+	 * Read the shaper table. Used to shape the queue(s) associated with {{param|Interface}}. In case of a single queue for that interface, determines the egress rate of the queue. In case of multiple queues for that interface (possibly with per queue shaping rates), determines the aggregate egress rate on that interface.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes a unique key parameter that is a strong reference. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}} and disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Shaper> viewShapers() {
+		return shapers == null ? Collections.emptyList() : shapers;
+	}
+
 	/**
 	 * Set the shaper table. Used to shape the queue(s) associated with {{param|Interface}}. In case of a single queue for that interface, determines the egress rate of the queue. In case of multiple queues for that interface (possibly with per queue shaping rates), determines the aggregate egress rate on that interface.
 
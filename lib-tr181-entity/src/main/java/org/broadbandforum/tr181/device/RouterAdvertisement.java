@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.routeradvertisement.InterfaceSetting;
 
 	/**
@@ -60,6 +62,11 @@ public class RouterAdvertisement {
 	@CWMPParameter(access = "readWrite")
 	public Collection<InterfaceSetting> interfaceSettings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RouterAdvertisement() {
 	}
 
@@ -82,6 +89,7 @@ public class RouterAdvertisement {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -93,6 +101,7 @@ public class RouterAdvertisement {
 	 */
 	public RouterAdvertisement withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -106,10 +115,24 @@ public class RouterAdvertisement {
 	 * @return the value
 	 */
 	public Collection<InterfaceSetting> getInterfaceSettings() {
-		if (this.interfaceSettings == null){ this.interfaceSettings=new ArrayList<>();}
+		if (!(this.interfaceSettings instanceof InstanceTable)){ this.interfaceSettings=InstanceTable.of(this.interfaceSettings);}
 		return interfaceSettings;
 	}
 
+	/**
+	 * Read the per-interface Router Advertisement (RA) configuration {{bibref|RFC4861}}. Table entries are created for use in sending Router Advertisements. 
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference to an IPv6-capable interface (that is attached to the IPv6 stack), then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes a unique key parameter that is a strong reference. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}} and disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InterfaceSetting> viewInterfaceSettings() {
+		return interfaceSettings == null ? Collections.emptyList() : interfaceSettings;
+	}
+
 	/**
 	 * Set the per-interface Router Advertisement (RA) configuration {{bibref|RFC4861}}. Table entries are created for use in sending Router Advertisements. 
 
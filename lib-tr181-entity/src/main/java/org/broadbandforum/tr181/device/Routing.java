@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.routing.RIP;
 import org.broadbandforum.tr181.device.routing.RouteInformation;
 import org.broadbandforum.tr181.device.routing.Router;
@@ -68,10 +69,20 @@ public class Routing {
 	 * @return the value
 	 */
 	public Collection<Router> getRouters() {
-		if (this.routers == null){ this.routers=new ArrayList<>();}
+		if (!(this.routers instanceof InstanceTable)){ this.routers=InstanceTable.of(this.routers);}
 		return routers;
 	}
 
+	/**
+	 * Read the this object allows the handling of the routing and forwarding configuration of the device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Router> viewRouters() {
+		return routers == null ? Collections.emptyList() : routers;
+	}
+
 	/**
 	 * Set the this object allows the handling of the routing and forwarding configuration of the device.
 	 *
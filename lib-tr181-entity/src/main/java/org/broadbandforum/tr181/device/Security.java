@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.security.Certificate;
 
 	/**
@@ -54,10 +55,20 @@ public class Security {
 	 * @return the value
 	 */
 	public Collection<Certificate> getCertificates() {
-		if (this.certificates == null){ this.certificates=new ArrayList<>();}
+		if (!(this.certificates instanceof InstanceTable)){ this.certificates=InstanceTable.of(this.certificates);}
 		return certificates;
 	}
 
+	/**
+	 * Read the this table provides information about all types of public key-based credentials, such as X.509 certificates, see {{bibref|RFC5280}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Certificate> viewCertificates() {
+		return certificates == null ? Collections.emptyList() : certificates;
+	}
+
 	/**
 	 * Set the this table provides information about all types of public key-based credentials, such as X.509 certificates, see {{bibref|RFC5280}}.
 	 *
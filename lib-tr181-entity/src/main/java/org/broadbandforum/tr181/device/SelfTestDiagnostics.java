@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This diagnostics test is vendor-specific and MAY include testing hardware, software, and/or firmware.
@@ -71,6 +72,11 @@ public class SelfTestDiagnostics {
 	@Size(max = 1024)
 	public String results;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SelfTestDiagnostics() {
 	}
 
@@ -129,6 +135,7 @@ public class SelfTestDiagnostics {
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -158,6 +165,7 @@ public class SelfTestDiagnostics {
 	 */
 	public SelfTestDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -179,6 +187,7 @@ public class SelfTestDiagnostics {
 	 */
 	public void  setResults(String results) {
 		this.results = results;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -190,6 +199,7 @@ public class SelfTestDiagnostics {
 	 */
 	public SelfTestDiagnostics withResults(String results) {
 		this.results = results;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
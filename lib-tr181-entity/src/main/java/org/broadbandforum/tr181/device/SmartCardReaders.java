@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.smartcardreaders.SmartCardReader;
 
 	/**
@@ -54,10 +55,20 @@ public class SmartCardReaders {
 	 * @return the value
 	 */
 	public Collection<SmartCardReader> getSmartCardReaders() {
-		if (this.smartCardReaders == null){ this.smartCardReaders=new ArrayList<>();}
+		if (!(this.smartCardReaders instanceof InstanceTable)){ this.smartCardReaders=InstanceTable.of(this.smartCardReaders);}
 		return smartCardReaders;
 	}
 
+	/**
+	 * Read the this object describes the characteristics of the smart card reader.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SmartCardReader> viewSmartCardReaders() {
+		return smartCardReaders == null ? Collections.emptyList() : smartCardReaders;
+	}
+
 	/**
 	 * Set the this object describes the characteristics of the smart card reader.
 	 *
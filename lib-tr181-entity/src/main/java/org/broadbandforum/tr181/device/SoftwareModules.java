@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.softwaremodules.DeploymentUnit;
 import org.broadbandforum.tr181.device.softwaremodules.ExecEnv;
 import org.broadbandforum.tr181.device.softwaremodules.ExecutionUnit;
@@ -80,10 +81,20 @@ public class SoftwareModules {
 	 * @return the value
 	 */
 	public Collection<ExecEnv> getExecEnvs() {
-		if (this.execEnvs == null){ this.execEnvs=new ArrayList<>();}
+		if (!(this.execEnvs instanceof InstanceTable)){ this.execEnvs=InstanceTable.of(this.execEnvs);}
 		return execEnvs;
 	}
 
+	/**
+	 * Read the Execution Environments that are available on the device, along with their properties and configurable settings.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ExecEnv> viewExecEnvs() {
+		return execEnvs == null ? Collections.emptyList() : execEnvs;
+	}
+
 	/**
 	 * Set the Execution Environments that are available on the device, along with their properties and configurable settings.
 	 *
@@ -112,10 +123,22 @@ public class SoftwareModules {
 	 * @return the value
 	 */
 	public Collection<DeploymentUnit> getDeploymentUnits() {
-		if (this.deploymentUnits == null){ this.deploymentUnits=new ArrayList<>();}
+		if (!(this.deploymentUnits instanceof InstanceTable)){ this.deploymentUnits=InstanceTable.of(this.deploymentUnits);}
 		return deploymentUnits;
 	}
 
+	/**
+	 * Read the this table serves as the Deployment Unit inventory and contains status information about each Deployment Unit.
+
+        A new instance of this table gets created during the installation of a Software Module.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<DeploymentUnit> viewDeploymentUnits() {
+		return deploymentUnits == null ? Collections.emptyList() : deploymentUnits;
+	}
+
 	/**
 	 * Set the this table serves as the Deployment Unit inventory and contains status information about each Deployment Unit.
 
@@ -156,10 +179,30 @@ public class SoftwareModules {
 	 * @return the value
 	 */
 	public Collection<ExecutionUnit> getExecutionUnits() {
-		if (this.executionUnits == null){ this.executionUnits=new ArrayList<>();}
+		if (!(this.executionUnits instanceof InstanceTable)){ this.executionUnits=InstanceTable.of(this.executionUnits);}
 		return executionUnits;
 	}
 
+	/**
+	 * Read the this table serves as the Execution Unit inventory and contains both status information about each Execution Unit as well as configurable parameters for each Execution Unit.
+
+        Each {{object|#.DeploymentUnit}} that is installed can have zero or more Execution Units.  
+
+        Once a Deployment Unit is installed it populates this table with its contained Execution Units.  
+
+        When the Deployment Unit (that caused this {{object}} to come into existence) is updated, this instance MAY be removed and new instances MAY come into existence.  While the Deployment Unit (that caused this {{object}} to come into existence) is being updated, all {{object}} instances associated with the Deployment Unit will be stopped until the update is complete at which time they will be restored to the state that they were in before the update started.
+
+        When the Deployment Unit (that caused this {{object}} to come into existence) is uninstalled, this instance is removed.
+
+        Each {{object}} MAY also contain a set of vendor specific parameters displaying status and maintaining configuration that reside under the {{object|Extensions}} object.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ExecutionUnit> viewExecutionUnits() {
+		return executionUnits == null ? Collections.emptyList() : executionUnits;
+	}
+
 	/**
 	 * Set the this table serves as the Execution Unit inventory and contains both status information about each Execution Unit as well as configurable parameters for each Execution Unit.
 
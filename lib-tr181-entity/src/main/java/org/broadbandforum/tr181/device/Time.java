@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating an NTP or SNTP time client in the CPE.
@@ -110,6 +113,7 @@ public class Time {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "CurrentLocalTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime currentLocalTime;
 	/**
@@ -124,6 +128,11 @@ public class Time {
 	@Size(max = 256)
 	public String localTimeZone;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Time() {
 	}
 
@@ -146,6 +155,7 @@ public class Time {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -157,6 +167,7 @@ public class Time {
 	 */
 	public Time withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -194,6 +205,7 @@ public class Time {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -213,6 +225,7 @@ public class Time {
 	 */
 	public Time withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -234,6 +247,7 @@ public class Time {
 	 */
 	public void  setNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -245,6 +259,7 @@ public class Time {
 	 */
 	public Time withNtpServer1(String ntpServer1) {
 		this.ntpServer1 = ntpServer1;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -266,6 +281,7 @@ public class Time {
 	 */
 	public void  setNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -277,6 +293,7 @@ public class Time {
 	 */
 	public Time withNtpServer2(String ntpServer2) {
 		this.ntpServer2 = ntpServer2;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -298,6 +315,7 @@ public class Time {
 	 */
 	public void  setNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -309,6 +327,7 @@ public class Time {
 	 */
 	public Time withNtpServer3(String ntpServer3) {
 		this.ntpServer3 = ntpServer3;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -330,6 +349,7 @@ public class Time {
 	 */
 	public void  setNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -341,6 +361,7 @@ public class Time {
 	 */
 	public Time withNtpServer4(String ntpServer4) {
 		this.ntpServer4 = ntpServer4;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -362,6 +383,7 @@ public class Time {
 	 */
 	public void  setNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -373,6 +395,7 @@ public class Time {
 	 */
 	public Time withNtpServer5(String ntpServer5) {
 		this.ntpServer5 = ntpServer5;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -394,6 +417,7 @@ public class Time {
 	 */
 	public void  setCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -405,6 +429,7 @@ public class Time {
 	 */
 	public Time withCurrentLocalTime(LocalDateTime currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -430,6 +455,7 @@ public class Time {
 	 */
 	public void  setLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -443,6 +469,7 @@ public class Time {
 	 */
 	public Time withLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.usb.Interface;
 import org.broadbandforum.tr181.device.usb.Port;
 import org.broadbandforum.tr181.device.usb.USBHosts;
@@ -69,10 +70,20 @@ public class USB {
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the usb interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). This table models master and slave USB physical interfaces that support carrying Ethernet frames, e.g. via the USB Communication Device Class.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the usb interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). This table models master and slave USB physical interfaces that support carrying Ethernet frames, e.g. via the USB Communication Device Class.
 	 *
@@ -99,10 +110,20 @@ public class USB {
 	 * @return the value
 	 */
 	public Collection<Port> getPorts() {
-		if (this.ports == null){ this.ports=new ArrayList<>();}
+		if (!(this.ports instanceof InstanceTable)){ this.ports=InstanceTable.of(this.ports);}
 		return ports;
 	}
 
+	/**
+	 * Read the usb Port table. This table models master and slave USB physical ports on the device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Port> viewPorts() {
+		return ports == null ? Collections.emptyList() : ports;
+	}
+
 	/**
 	 * Set the usb Port table. This table models master and slave USB physical ports on the device.
 	 *
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +26,11 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.userinterface.LocalDisplay;
 import org.broadbandforum.tr181.device.userinterface.RemoteAccess;
 
@@ -85,6 +89,7 @@ public class UserInterface {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "WarrantyDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime warrantyDate;
 	/**
@@ -245,6 +250,11 @@ public class UserInterface {
 	@XmlElement(name = "LocalDisplay")
 	public LocalDisplay localDisplay;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UserInterface() {
 	}
 
@@ -271,6 +281,7 @@ public class UserInterface {
 	 */
 	public void  setPasswordRequired(Boolean passwordRequired) {
 		this.passwordRequired = passwordRequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -284,6 +295,7 @@ public class UserInterface {
 	 */
 	public UserInterface withPasswordRequired(Boolean passwordRequired) {
 		this.passwordRequired = passwordRequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -309,6 +321,7 @@ public class UserInterface {
 	 */
 	public void  setPasswordUserSelectable(Boolean passwordUserSelectable) {
 		this.passwordUserSelectable = passwordUserSelectable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -322,6 +335,7 @@ public class UserInterface {
 	 */
 	public UserInterface withPasswordUserSelectable(Boolean passwordUserSelectable) {
 		this.passwordUserSelectable = passwordUserSelectable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -347,6 +361,7 @@ public class UserInterface {
 	 */
 	public void  setPasswordReset(Boolean passwordReset) {
 		this.passwordReset = passwordReset;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -360,6 +375,7 @@ public class UserInterface {
 	 */
 	public UserInterface withPasswordReset(Boolean passwordReset) {
 		this.passwordReset = passwordReset;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -381,6 +397,7 @@ public class UserInterface {
 	 */
 	public void  setUpgradeAvailable(Boolean upgradeAvailable) {
 		this.upgradeAvailable = upgradeAvailable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -392,6 +409,7 @@ public class UserInterface {
 	 */
 	public UserInterface withUpgradeAvailable(Boolean upgradeAvailable) {
 		this.upgradeAvailable = upgradeAvailable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -413,6 +431,7 @@ public class UserInterface {
 	 */
 	public void  setWarrantyDate(LocalDateTime warrantyDate) {
 		this.warrantyDate = warrantyDate;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -424,6 +443,7 @@ public class UserInterface {
 	 */
 	public UserInterface withWarrantyDate(LocalDateTime warrantyDate) {
 		this.warrantyDate = warrantyDate;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -445,6 +465,7 @@ public class UserInterface {
 	 */
 	public void  setIspName(String ispName) {
 		this.ispName = ispName;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -456,6 +477,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspName(String ispName) {
 		this.ispName = ispName;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -477,6 +499,7 @@ public class UserInterface {
 	 */
 	public void  setIspHelpDesk(String ispHelpDesk) {
 		this.ispHelpDesk = ispHelpDesk;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -488,6 +511,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspHelpDesk(String ispHelpDesk) {
 		this.ispHelpDesk = ispHelpDesk;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -509,6 +533,7 @@ public class UserInterface {
 	 */
 	public void  setIspHomePage(String ispHomePage) {
 		this.ispHomePage = ispHomePage;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -520,6 +545,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspHomePage(String ispHomePage) {
 		this.ispHomePage = ispHomePage;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -541,6 +567,7 @@ public class UserInterface {
 	 */
 	public void  setIspHelpPage(String ispHelpPage) {
 		this.ispHelpPage = ispHelpPage;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -552,6 +579,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspHelpPage(String ispHelpPage) {
 		this.ispHelpPage = ispHelpPage;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -573,6 +601,7 @@ public class UserInterface {
 	 */
 	public void  setIspLogo(String ispLogo) {
 		this.ispLogo = ispLogo;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -584,6 +613,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspLogo(String ispLogo) {
 		this.ispLogo = ispLogo;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -613,6 +643,7 @@ public class UserInterface {
 	 */
 	public void  setIspLogoSize(Long ispLogoSize) {
 		this.ispLogoSize = ispLogoSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -628,6 +659,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspLogoSize(Long ispLogoSize) {
 		this.ispLogoSize = ispLogoSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -649,6 +681,7 @@ public class UserInterface {
 	 */
 	public void  setIspMailServer(String ispMailServer) {
 		this.ispMailServer = ispMailServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -660,6 +693,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspMailServer(String ispMailServer) {
 		this.ispMailServer = ispMailServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -681,6 +715,7 @@ public class UserInterface {
 	 */
 	public void  setIspNewsServer(String ispNewsServer) {
 		this.ispNewsServer = ispNewsServer;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -692,6 +727,7 @@ public class UserInterface {
 	 */
 	public UserInterface withIspNewsServer(String ispNewsServer) {
 		this.ispNewsServer = ispNewsServer;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -713,6 +749,7 @@ public class UserInterface {
 	 */
 	public void  setTextColor(byte[] textColor) {
 		this.textColor = textColor;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -724,6 +761,7 @@ public class UserInterface {
 	 */
 	public UserInterface withTextColor(byte[] textColor) {
 		this.textColor = textColor;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -745,6 +783,7 @@ public class UserInterface {
 	 */
 	public void  setBackgroundColor(byte[] backgroundColor) {
 		this.backgroundColor = backgroundColor;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -756,6 +795,7 @@ public class UserInterface {
 	 */
 	public UserInterface withBackgroundColor(byte[] backgroundColor) {
 		this.backgroundColor = backgroundColor;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -777,6 +817,7 @@ public class UserInterface {
 	 */
 	public void  setButtonColor(byte[] buttonColor) {
 		this.buttonColor = buttonColor;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -788,6 +829,7 @@ public class UserInterface {
 	 */
 	public UserInterface withButtonColor(byte[] buttonColor) {
 		this.buttonColor = buttonColor;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -809,6 +851,7 @@ public class UserInterface {
 	 */
 	public void  setButtonTextColor(byte[] buttonTextColor) {
 		this.buttonTextColor = buttonTextColor;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -820,6 +863,7 @@ public class UserInterface {
 	 */
 	public UserInterface withButtonTextColor(byte[] buttonTextColor) {
 		this.buttonTextColor = buttonTextColor;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -841,6 +885,7 @@ public class UserInterface {
 	 */
 	public void  setAutoUpdateServer(String autoUpdateServer) {
 		this.autoUpdateServer = autoUpdateServer;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -852,6 +897,7 @@ public class UserInterface {
 	 */
 	public UserInterface withAutoUpdateServer(String autoUpdateServer) {
 		this.autoUpdateServer = autoUpdateServer;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -873,6 +919,7 @@ public class UserInterface {
 	 */
 	public void  setUserUpdateServer(String userUpdateServer) {
 		this.userUpdateServer = userUpdateServer;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -884,6 +931,7 @@ public class UserInterface {
 	 */
 	public UserInterface withUserUpdateServer(String userUpdateServer) {
 		this.userUpdateServer = userUpdateServer;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -898,6 +946,17 @@ public class UserInterface {
 		return availableLanguages;
 	}
 
+	/**
+	 * Read the {{list}} List items represent user-interface languages that are available, where each language is specified according to {{bibref|RFC3066}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAvailableLanguages() {
+		return availableLanguages == null ? Collections.emptyList() : availableLanguages;
+	}
+
 	/**
 	 * Set the {{list}} List items represent user-interface languages that are available, where each language is specified according to {{bibref|RFC3066}}.
 	 *
@@ -906,6 +965,7 @@ public class UserInterface {
 	 */
 	public void  setAvailableLanguages(Collection<String> availableLanguages) {
 		this.availableLanguages = availableLanguages;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -917,6 +977,7 @@ public class UserInterface {
 	 */
 	public UserInterface withAvailableLanguages(String string) {
 		getAvailableLanguages().add(string);
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -938,6 +999,7 @@ public class UserInterface {
 	 */
 	public void  setCurrentLanguage(String currentLanguage) {
 		this.currentLanguage = currentLanguage;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -949,6 +1011,7 @@ public class UserInterface {
 	 */
 	public UserInterface withCurrentLanguage(String currentLanguage) {
 		this.currentLanguage = currentLanguage;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.users.User;
 
 	/**
@@ -56,10 +57,20 @@ public class Users {
 	 * @return the value
 	 */
 	public Collection<User> getUsers() {
-		if (this.users == null){ this.users=new ArrayList<>();}
+		if (!(this.users instanceof InstanceTable)){ this.users=InstanceTable.of(this.users);}
 		return users;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to the user characteristics.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<User> viewUsers() {
+		return users == null ? Collections.emptyList() : users;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to the user characteristics.
 	 *
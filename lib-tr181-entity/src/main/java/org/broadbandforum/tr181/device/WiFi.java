@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.wifi.AccessPoint;
 import org.broadbandforum.tr181.device.wifi.EndPoint;
 import org.broadbandforum.tr181.device.wifi.NeighboringWiFiDiagnostic;
@@ -103,10 +104,24 @@ public class WiFi {
 	 * @return the value
 	 */
 	public Collection<Radio> getRadios() {
-		if (this.radios == null){ this.radios=new ArrayList<>();}
+		if (!(this.radios instanceof InstanceTable)){ this.radios=InstanceTable.of(this.radios);}
 		return radios;
 	}
 
+	/**
+	 * Read the this object models an 802.11 wireless radio on a device (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).
+
+        If the device can establish more than one connection simultaneously (e.g. a dual radio device), a separate {{object}} instance MUST be used for each physical radio of the device. See {{bibref|TR-181i2|Appendix III.1}} for additional information.
+
+        Note: A dual-band single-radio device (e.g. an 802.11a/b/g radio) can be configured to operate at 2.4 or 5 GHz frequency bands, but only a single frequency band is used to transmit/receive at a given time. Therefore, a single {{object}} instance is used even for a dual-band radio.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Radio> viewRadios() {
+		return radios == null ? Collections.emptyList() : radios;
+	}
+
 	/**
 	 * Set the this object models an 802.11 wireless radio on a device (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).
 
@@ -172,10 +187,22 @@ public class WiFi {
 	 * @return the value
 	 */
 	public Collection<SSID> getSsiDs() {
-		if (this.ssiDs == null){ this.ssiDs=new ArrayList<>();}
+		if (!(this.ssiDs instanceof InstanceTable)){ this.ssiDs=InstanceTable.of(this.ssiDs);}
 		return ssiDs;
 	}
 
+	/**
+	 * Read the wifi SSID table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}), where table entries model the MAC layer. A WiFi SSID entry is typically stacked on top of a {{object|#.Radio}} object.
+
+        WiFi SSID is also a multiplexing layer, i.e. more than one {{object}} can be stacked above a single {{object|#.Radio}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SSID> viewSsiDs() {
+		return ssiDs == null ? Collections.emptyList() : ssiDs;
+	}
+
 	/**
 	 * Set the wifi SSID table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}), where table entries model the MAC layer. A WiFi SSID entry is typically stacked on top of a {{object|#.Radio}} object.
 
@@ -210,10 +237,24 @@ public class WiFi {
 	 * @return the value
 	 */
 	public Collection<AccessPoint> getAccessPoints() {
-		if (this.accessPoints == null){ this.accessPoints=new ArrayList<>();}
+		if (!(this.accessPoints instanceof InstanceTable)){ this.accessPoints=InstanceTable.of(this.accessPoints);}
 		return accessPoints;
 	}
 
+	/**
+	 * Read the this object models an 802.11 connection from the perspective of a wireless access point. Each {{object}} entry is associated with a particular {{object|#.SSID}} interface instance via the {{param|SSIDReference}} parameter. 
+
+        For enabled table entries, if {{param|SSIDReference}} is not a valid reference then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes a unique key parameter that is a strong reference. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}} and disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AccessPoint> viewAccessPoints() {
+		return accessPoints == null ? Collections.emptyList() : accessPoints;
+	}
+
 	/**
 	 * Set the this object models an 802.11 connection from the perspective of a wireless access point. Each {{object}} entry is associated with a particular {{object|#.SSID}} interface instance via the {{param|SSIDReference}} parameter. 
 
@@ -252,10 +293,24 @@ public class WiFi {
 	 * @return the value
 	 */
 	public Collection<EndPoint> getEndPoints() {
-		if (this.endPoints == null){ this.endPoints=new ArrayList<>();}
+		if (!(this.endPoints instanceof InstanceTable)){ this.endPoints=InstanceTable.of(this.endPoints);}
 		return endPoints;
 	}
 
+	/**
+	 * Read the this object models an 802.11 connection from the perspective of a wireless end point. Each {{object}} entry is associated with a particular {{object|#.SSID}} interface instance via the {{param|SSIDReference}} parameter, and an associated active {{object|Profile}} instance via the {{param|ProfileReference}} parameter. The active profile is responsible for specifying the actual SSID and security settings used by the end point.
+
+        For enabled table entries, if {{param|SSIDReference}} or {{param|ProfileReference}} is not a valid reference then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes a unique key parameter that is a strong reference. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}} and disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<EndPoint> viewEndPoints() {
+		return endPoints == null ? Collections.emptyList() : endPoints;
+	}
+
 	/**
 	 * Set the this object models an 802.11 connection from the perspective of a wireless end point. Each {{object}} entry is associated with a particular {{object|#.SSID}} interface instance via the {{param|SSIDReference}} parameter, and an associated active {{object|Profile}} instance via the {{param|ProfileReference}} parameter. The active profile is responsible for specifying the actual SSID and security settings used by the end point.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.xmpp.Connection;
 
 	/**
@@ -56,10 +57,20 @@ public class XMPP {
 	 * @return the value
 	 */
 	public Collection<Connection> getConnections() {
-		if (this.connections == null){ this.connections=new ArrayList<>();}
+		if (!(this.connections instanceof InstanceTable)){ this.connections=InstanceTable.of(this.connections);}
 		return connections;
 	}
 
+	/**
+	 * Read the {{object}} represents a XMPP connection between the device and a server. The {{param|Username}}, {{param|Domain}} and {{param|Resource}} comprise the full identity (JabberID) of this {{object}} for this device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Connection> viewConnections() {
+		return connections == null ? Collections.emptyList() : connections;
+	}
+
 	/**
 	 * Set the {{object}} represents a XMPP connection between the device and a server. The {{param|Username}}, {{param|Domain}} and {{param|Resource}} comprise the full identity (JabberID) of this {{object}} for this device.
 	 *
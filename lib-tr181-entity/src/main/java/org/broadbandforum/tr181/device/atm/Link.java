@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.atm;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.atm.link.QoS;
 import org.broadbandforum.tr181.device.atm.link.Stats;
 
@@ -178,6 +181,16 @@ public class Link {
 	@XmlElement(name = "QoS")
 	public QoS qos;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Link() {
 	}
 
@@ -204,6 +217,7 @@ public class Link {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -217,6 +231,7 @@ public class Link {
 	 */
 	public Link withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -250,6 +265,7 @@ public class Link {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -267,6 +283,7 @@ public class Link {
 	 */
 	public Link withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -288,6 +305,8 @@ public class Link {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -299,6 +318,8 @@ public class Link {
 	 */
 	public Link withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -320,6 +341,8 @@ public class Link {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -331,6 +354,8 @@ public class Link {
 	 */
 	public Link withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -352,6 +377,7 @@ public class Link {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -363,6 +389,7 @@ public class Link {
 	 */
 	public Link withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -377,6 +404,17 @@ public class Link {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 	 *
@@ -385,6 +423,7 @@ public class Link {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -396,6 +435,7 @@ public class Link {
 	 */
 	public Link withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -417,6 +457,7 @@ public class Link {
 	 */
 	public void  setLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -428,6 +469,7 @@ public class Link {
 	 */
 	public Link withLinkType(String linkType) {
 		this.linkType = linkType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -449,6 +491,7 @@ public class Link {
 	 */
 	public void  setAutoConfig(Boolean autoConfig) {
 		this.autoConfig = autoConfig;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -460,6 +503,7 @@ public class Link {
 	 */
 	public Link withAutoConfig(Boolean autoConfig) {
 		this.autoConfig = autoConfig;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -481,6 +525,7 @@ public class Link {
 	 */
 	public void  setDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -492,6 +537,7 @@ public class Link {
 	 */
 	public Link withDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -513,6 +559,7 @@ public class Link {
 	 */
 	public void  setEncapsulation(String encapsulation) {
 		this.encapsulation = encapsulation;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -524,6 +571,7 @@ public class Link {
 	 */
 	public Link withEncapsulation(String encapsulation) {
 		this.encapsulation = encapsulation;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -545,6 +593,7 @@ public class Link {
 	 */
 	public void  setFcsPreserved(Boolean fcsPreserved) {
 		this.fcsPreserved = fcsPreserved;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -556,6 +605,7 @@ public class Link {
 	 */
 	public Link withFcsPreserved(Boolean fcsPreserved) {
 		this.fcsPreserved = fcsPreserved;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -574,6 +624,21 @@ public class Link {
 		return vcsearchList;
 	}
 
+	/**
+	 * Read the {{list}} Ordered list of VPI/VCI pairs to search if a link using the {{param|DestinationAddress}} cannot be  established.  In the form "VPI1/VCI1, VPI2/VCI2, ...".  {{pattern}}
+
+          Example:
+
+          : ''0/35, 8/35, 1/35''
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVcsearchList() {
+		return vcsearchList == null ? Collections.emptyList() : vcsearchList;
+	}
+
 	/**
 	 * Set the {{list}} Ordered list of VPI/VCI pairs to search if a link using the {{param|DestinationAddress}} cannot be  established.  In the form "VPI1/VCI1, VPI2/VCI2, ...".  {{pattern}}
 
@@ -586,6 +651,7 @@ public class Link {
 	 */
 	public void  setVcsearchList(Collection<String> vcsearchList) {
 		this.vcsearchList = vcsearchList;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -601,6 +667,7 @@ public class Link {
 	 */
 	public Link withVcsearchList(String string) {
 		getVcsearchList().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -622,6 +689,7 @@ public class Link {
 	 */
 	public void  setAal(String aal) {
 		this.aal = aal;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -633,6 +701,7 @@ public class Link {
 	 */
 	public Link withAal(String aal) {
 		this.aal = aal;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides access to an ATM-layer F5 OAM loopback test.
@@ -112,6 +113,11 @@ public class F5Loopback {
 	@CWMPParameter(activeNotify = "canDeny", units = "milliseconds")
 	public Long maximumResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public F5Loopback() {
 	}
 
@@ -134,6 +140,7 @@ public class F5Loopback {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -145,6 +152,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -166,6 +174,7 @@ public class F5Loopback {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -177,6 +186,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -198,6 +208,7 @@ public class F5Loopback {
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -209,6 +220,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -230,6 +242,7 @@ public class F5Loopback {
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -241,6 +254,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -262,6 +276,7 @@ public class F5Loopback {
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -273,6 +288,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -294,6 +310,7 @@ public class F5Loopback {
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -305,6 +322,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -326,6 +344,7 @@ public class F5Loopback {
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -337,6 +356,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -358,6 +378,7 @@ public class F5Loopback {
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -369,6 +390,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -390,6 +412,7 @@ public class F5Loopback {
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -401,6 +424,7 @@ public class F5Loopback {
 	 */
 	public F5Loopback withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The ATM Link QoS object.
@@ -67,6 +68,11 @@ public class QoS {
 	@CWMPParameter(access = "readWrite", units = "cells per second")
 	public Long sustainableCellRate;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QoS() {
 	}
 
@@ -89,6 +95,7 @@ public class QoS {
 	 */
 	public void  setQosClass(String qosClass) {
 		this.qosClass = qosClass;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +107,7 @@ public class QoS {
 	 */
 	public QoS withQosClass(String qosClass) {
 		this.qosClass = qosClass;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class QoS {
 	 */
 	public void  setPeakCellRate(Long peakCellRate) {
 		this.peakCellRate = peakCellRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +141,7 @@ public class QoS {
 	 */
 	public QoS withPeakCellRate(Long peakCellRate) {
 		this.peakCellRate = peakCellRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -153,6 +163,7 @@ public class QoS {
 	 */
 	public void  setMaximumBurstSize(Long maximumBurstSize) {
 		this.maximumBurstSize = maximumBurstSize;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -164,6 +175,7 @@ public class QoS {
 	 */
 	public QoS withMaximumBurstSize(Long maximumBurstSize) {
 		this.maximumBurstSize = maximumBurstSize;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,6 +197,7 @@ public class QoS {
 	 */
 	public void  setSustainableCellRate(Long sustainableCellRate) {
 		this.sustainableCellRate = sustainableCellRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -196,6 +209,7 @@ public class QoS {
 	 */
 	public QoS withSustainableCellRate(Long sustainableCellRate) {
 		this.sustainableCellRate = sustainableCellRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
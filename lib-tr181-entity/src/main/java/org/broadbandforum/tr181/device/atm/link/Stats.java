@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Throughput statistics for this interface.
@@ -191,6 +192,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long hecErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -213,6 +219,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -224,6 +231,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -245,6 +253,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -256,6 +265,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -277,6 +287,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -288,6 +299,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -309,6 +321,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -320,6 +333,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -341,6 +355,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -352,6 +367,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -373,6 +389,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -384,6 +401,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -405,6 +423,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -416,6 +435,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -437,6 +457,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -448,6 +469,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -469,6 +491,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -480,6 +503,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -501,6 +525,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -512,6 +537,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -533,6 +559,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -544,6 +571,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -565,6 +593,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -576,6 +605,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -597,6 +627,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -608,6 +639,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -629,6 +661,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -640,6 +673,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -661,6 +695,7 @@ public class Stats {
 	 */
 	public void  setUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -672,6 +707,7 @@ public class Stats {
 	 */
 	public Stats withUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -693,6 +729,7 @@ public class Stats {
 	 */
 	public void  setTransmittedBlocks(Long transmittedBlocks) {
 		this.transmittedBlocks = transmittedBlocks;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -704,6 +741,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedBlocks(Long transmittedBlocks) {
 		this.transmittedBlocks = transmittedBlocks;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -725,6 +763,7 @@ public class Stats {
 	 */
 	public void  setReceivedBlocks(Long receivedBlocks) {
 		this.receivedBlocks = receivedBlocks;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -736,6 +775,7 @@ public class Stats {
 	 */
 	public Stats withReceivedBlocks(Long receivedBlocks) {
 		this.receivedBlocks = receivedBlocks;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -761,6 +801,7 @@ public class Stats {
 	 */
 	public void  setCrcErrors(Long crcErrors) {
 		this.crcErrors = crcErrors;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -774,6 +815,7 @@ public class Stats {
 	 */
 	public Stats withCrcErrors(Long crcErrors) {
 		this.crcErrors = crcErrors;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -795,6 +837,7 @@ public class Stats {
 	 */
 	public void  setHecErrors(Long hecErrors) {
 		this.hecErrors = hecErrors;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -806,6 +849,7 @@ public class Stats {
 	 */
 	public Stats withHecErrors(Long hecErrors) {
 		this.hecErrors = hecErrors;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.bridging;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.bridging.bridge.Port;
 import org.broadbandforum.tr181.device.bridging.bridge.VLAN;
 import org.broadbandforum.tr181.device.bridging.bridge.VLANPort;
@@ -105,6 +107,16 @@ public class Bridge {
 	@CWMPParameter(access = "readWrite")
 	public Collection<VLANPort> vlaNPorts;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Bridge() {
 	}
 
@@ -127,6 +139,7 @@ public class Bridge {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -138,6 +151,7 @@ public class Bridge {
 	 */
 	public Bridge withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,7 @@ public class Bridge {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -176,6 +191,7 @@ public class Bridge {
 	 */
 	public Bridge withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -197,6 +213,8 @@ public class Bridge {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -208,6 +226,8 @@ public class Bridge {
 	 */
 	public Bridge withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -229,6 +249,7 @@ public class Bridge {
 	 */
 	public void  setStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -240,6 +261,7 @@ public class Bridge {
 	 */
 	public Bridge withStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -251,10 +273,22 @@ public class Bridge {
 	 * @return the value
 	 */
 	public Collection<Port> getPorts() {
-		if (this.ports == null){ this.ports=new ArrayList<>();}
+		if (!(this.ports instanceof InstanceTable)){ this.ports=InstanceTable.of(this.ports);}
 		return ports;
 	}
 
+	/**
+	 * Read the bridge Port table, which MUST contain an entry for each bridge port (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).
+
+        There are two types of bridge ports: management (upward facing) and non-management (downward facing). This is determined by configuring the Boolean {{param|ManagementPort}} parameter. The CPE will automatically configure each management bridge port to appear in the interface stack above all non-management bridge ports that share the same {{object|##.Bridge}} instance.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Port> viewPorts() {
+		return ports == null ? Collections.emptyList() : ports;
+	}
+
 	/**
 	 * Set the bridge Port table, which MUST contain an entry for each bridge port (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}).
 
@@ -287,10 +321,22 @@ public class Bridge {
 	 * @return the value
 	 */
 	public Collection<VLAN> getVlaNs() {
-		if (this.vlaNs == null){ this.vlaNs=new ArrayList<>();}
+		if (!(this.vlaNs instanceof InstanceTable)){ this.vlaNs=InstanceTable.of(this.vlaNs);}
 		return vlaNs;
 	}
 
+	/**
+	 * Read the bridge VLAN table.  If this table is supported, if MUST contain an entry for each VLAN known to the Bridge.
+
+        This table only applies to an 802.1Q {{bibref|802.1Q-2011}} Bridge.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VLAN> viewVlaNs() {
+		return vlaNs == null ? Collections.emptyList() : vlaNs;
+	}
+
 	/**
 	 * Set the bridge VLAN table.  If this table is supported, if MUST contain an entry for each VLAN known to the Bridge.
 
@@ -325,10 +371,24 @@ public class Bridge {
 	 * @return the value
 	 */
 	public Collection<VLANPort> getVlaNPorts() {
-		if (this.vlaNPorts == null){ this.vlaNPorts=new ArrayList<>();}
+		if (!(this.vlaNPorts instanceof InstanceTable)){ this.vlaNPorts=InstanceTable.of(this.vlaNPorts);}
 		return vlaNPorts;
 	}
 
+	/**
+	 * Read the bridge VLAN egress port and untagged port membership table.
+
+        This table only applies to an 802.1Q {{bibref|802.1Q-2011}} Bridge.
+
+        Note: The {{object}} table includes unique key parameters that are strong references. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VLANPort> viewVlaNPorts() {
+		return vlaNPorts == null ? Collections.emptyList() : vlaNPorts;
+	}
+
 	/**
 	 * Set the bridge VLAN egress port and untagged port membership table.
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.bridging;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,8 +29,10 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 import org.broadbandforum.common.IPPrefix;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Filter table containing classification filter entries, each of which expresses a set of classification criterion to classify ingress frames as member of a {{object|#.Bridge}} instance or a {{object|#.Bridge.{i}.VLAN}} instance.
@@ -571,6 +574,16 @@ public class Filter {
 	@CWMPParameter(access = "readWrite")
 	public Boolean sourcePortExclude;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Filter() {
 	}
 
@@ -593,6 +606,7 @@ public class Filter {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -604,6 +618,7 @@ public class Filter {
 	 */
 	public Filter withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -625,6 +640,8 @@ public class Filter {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -636,6 +653,8 @@ public class Filter {
 	 */
 	public Filter withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -673,6 +692,7 @@ public class Filter {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -692,6 +712,7 @@ public class Filter {
 	 */
 	public Filter withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -717,6 +738,7 @@ public class Filter {
 	 */
 	public void  setBridge(String bridge) {
 		this.bridge = bridge;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -730,6 +752,7 @@ public class Filter {
 	 */
 	public Filter withBridge(String bridge) {
 		this.bridge = bridge;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -759,6 +782,7 @@ public class Filter {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -774,6 +798,7 @@ public class Filter {
 	 */
 	public Filter withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -799,6 +824,7 @@ public class Filter {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -812,6 +838,7 @@ public class Filter {
 	 */
 	public Filter with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -837,6 +864,7 @@ public class Filter {
 	 */
 	public void  setDhcPType(String dhcPType) {
 		this.dhcPType = dhcPType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -850,6 +878,7 @@ public class Filter {
 	 */
 	public Filter withDhcPType(String dhcPType) {
 		this.dhcPType = dhcPType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -879,6 +908,7 @@ public class Filter {
 	 */
 	public void  setVlaNIDFilter(Long vlaNIDFilter) {
 		this.vlaNIDFilter = vlaNIDFilter;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -894,6 +924,7 @@ public class Filter {
 	 */
 	public Filter withVlaNIDFilter(Long vlaNIDFilter) {
 		this.vlaNIDFilter = vlaNIDFilter;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -923,6 +954,7 @@ public class Filter {
 	 */
 	public void  setEthertypeFilterList(Long ethertypeFilterList) {
 		this.ethertypeFilterList = ethertypeFilterList;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -938,6 +970,7 @@ public class Filter {
 	 */
 	public Filter withEthertypeFilterList(Long ethertypeFilterList) {
 		this.ethertypeFilterList = ethertypeFilterList;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -967,6 +1000,7 @@ public class Filter {
 	 */
 	public void  setEthertypeFilterExclude(Boolean ethertypeFilterExclude) {
 		this.ethertypeFilterExclude = ethertypeFilterExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -982,6 +1016,7 @@ public class Filter {
 	 */
 	public Filter withEthertypeFilterExclude(Boolean ethertypeFilterExclude) {
 		this.ethertypeFilterExclude = ethertypeFilterExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -1004,6 +1039,25 @@ public class Filter {
 		return sourceMACAddressFilterList;
 	}
 
+	/**
+	 * Read the classification criterion.
+
+          {{list|each representing a MAC Address}}
+
+          Each list entry MAY optionally specify a bit-mask, where matching of a packet's MAC address is only to be done for bit positions set  to one in the mask.  If no mask is specified, all bits of the MAC Address are to be used for matching.
+
+          For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:00:00:00, 88:77:66:55:44:33''
+
+          Note that neither 802.1D {{bibref|802.1D-2004}} nor 802.1Q {{bibref|802.1Q-2011}} support classification based on source MAC  address.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSourceMACAddressFilterList() {
+		return sourceMACAddressFilterList == null ? Collections.emptyList() : sourceMACAddressFilterList;
+	}
+
 	/**
 	 * Set the classification criterion.
 
@@ -1020,6 +1074,7 @@ public class Filter {
 	 */
 	public void  setSourceMACAddressFilterList(Collection<String> sourceMACAddressFilterList) {
 		this.sourceMACAddressFilterList = sourceMACAddressFilterList;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -1039,6 +1094,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACAddressFilterList(String string) {
 		getSourceMACAddressFilterList().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -1068,6 +1124,7 @@ public class Filter {
 	 */
 	public void  setSourceMACAddressFilterExclude(Boolean sourceMACAddressFilterExclude) {
 		this.sourceMACAddressFilterExclude = sourceMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -1083,6 +1140,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACAddressFilterExclude(Boolean sourceMACAddressFilterExclude) {
 		this.sourceMACAddressFilterExclude = sourceMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1101,6 +1159,21 @@ public class Filter {
 		return destMACAddressFilterList;
 	}
 
+	/**
+	 * Read the classification criterion.
+
+          {{list}} Each list item specifies a MAC Address. List items MAY optionally specify a bit-mask after the MAC Address, where matching  of a packet's MAC address is only to be done for bit positions set to one in the mask.  If no mask is specified, all bits of the MAC  Address are to be used for matching.
+
+          For example, the list might be: ''01:02:03:04:05:06, 1:22:33:00:00:00/FF:FF:FF:00:00:00, 88:77:66:55:44:33''
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDestMACAddressFilterList() {
+		return destMACAddressFilterList == null ? Collections.emptyList() : destMACAddressFilterList;
+	}
+
 	/**
 	 * Set the classification criterion.
 
@@ -1113,6 +1186,7 @@ public class Filter {
 	 */
 	public void  setDestMACAddressFilterList(Collection<String> destMACAddressFilterList) {
 		this.destMACAddressFilterList = destMACAddressFilterList;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1128,6 +1202,7 @@ public class Filter {
 	 */
 	public Filter withDestMACAddressFilterList(String string) {
 		getDestMACAddressFilterList().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1153,6 +1228,7 @@ public class Filter {
 	 */
 	public void  setDestMACAddressFilterExclude(Boolean destMACAddressFilterExclude) {
 		this.destMACAddressFilterExclude = destMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1166,6 +1242,7 @@ public class Filter {
 	 */
 	public Filter withDestMACAddressFilterExclude(Boolean destMACAddressFilterExclude) {
 		this.destMACAddressFilterExclude = destMACAddressFilterExclude;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1203,6 +1280,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromVendorClassIDFilter(String sourceMACFromVendorClassIDFilter) {
 		this.sourceMACFromVendorClassIDFilter = sourceMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1222,6 +1300,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromVendorClassIDFilter(String sourceMACFromVendorClassIDFilter) {
 		this.sourceMACFromVendorClassIDFilter = sourceMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1255,6 +1334,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromVendorClassIDFilterv6(byte[] sourceMACFromVendorClassIDFilterv6) {
 		this.sourceMACFromVendorClassIDFilterv6 = sourceMACFromVendorClassIDFilterv6;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1272,6 +1352,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromVendorClassIDFilterv6(byte[] sourceMACFromVendorClassIDFilterv6) {
 		this.sourceMACFromVendorClassIDFilterv6 = sourceMACFromVendorClassIDFilterv6;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1301,6 +1382,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromVendorClassIDFilterExclude(Boolean sourceMACFromVendorClassIDFilterExclude) {
 		this.sourceMACFromVendorClassIDFilterExclude = sourceMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1316,6 +1398,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromVendorClassIDFilterExclude(Boolean sourceMACFromVendorClassIDFilterExclude) {
 		this.sourceMACFromVendorClassIDFilterExclude = sourceMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1345,6 +1428,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromVendorClassIDMode(String sourceMACFromVendorClassIDMode) {
 		this.sourceMACFromVendorClassIDMode = sourceMACFromVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1360,6 +1444,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromVendorClassIDMode(String sourceMACFromVendorClassIDMode) {
 		this.sourceMACFromVendorClassIDMode = sourceMACFromVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1393,6 +1478,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromVendorClassIDFilter(String destMACFromVendorClassIDFilter) {
 		this.destMACFromVendorClassIDFilter = destMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1410,6 +1496,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromVendorClassIDFilter(String destMACFromVendorClassIDFilter) {
 		this.destMACFromVendorClassIDFilter = destMACFromVendorClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1439,6 +1526,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromVendorClassIDFilterv6(byte[] destMACFromVendorClassIDFilterv6) {
 		this.destMACFromVendorClassIDFilterv6 = destMACFromVendorClassIDFilterv6;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1454,6 +1542,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromVendorClassIDFilterv6(byte[] destMACFromVendorClassIDFilterv6) {
 		this.destMACFromVendorClassIDFilterv6 = destMACFromVendorClassIDFilterv6;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1479,6 +1568,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromVendorClassIDFilterExclude(Boolean destMACFromVendorClassIDFilterExclude) {
 		this.destMACFromVendorClassIDFilterExclude = destMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1492,6 +1582,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromVendorClassIDFilterExclude(Boolean destMACFromVendorClassIDFilterExclude) {
 		this.destMACFromVendorClassIDFilterExclude = destMACFromVendorClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1517,6 +1608,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromVendorClassIDMode(String destMACFromVendorClassIDMode) {
 		this.destMACFromVendorClassIDMode = destMACFromVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1530,6 +1622,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromVendorClassIDMode(String destMACFromVendorClassIDMode) {
 		this.destMACFromVendorClassIDMode = destMACFromVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1571,6 +1664,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromClientIDFilter(byte[] sourceMACFromClientIDFilter) {
 		this.sourceMACFromClientIDFilter = sourceMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1592,6 +1686,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromClientIDFilter(byte[] sourceMACFromClientIDFilter) {
 		this.sourceMACFromClientIDFilter = sourceMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1621,6 +1716,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromClientIDFilterExclude(Boolean sourceMACFromClientIDFilterExclude) {
 		this.sourceMACFromClientIDFilterExclude = sourceMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1636,6 +1732,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromClientIDFilterExclude(Boolean sourceMACFromClientIDFilterExclude) {
 		this.sourceMACFromClientIDFilterExclude = sourceMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1673,6 +1770,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromClientIDFilter(byte[] destMACFromClientIDFilter) {
 		this.destMACFromClientIDFilter = destMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1692,6 +1790,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromClientIDFilter(byte[] destMACFromClientIDFilter) {
 		this.destMACFromClientIDFilter = destMACFromClientIDFilter;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1717,6 +1816,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromClientIDFilterExclude(Boolean destMACFromClientIDFilterExclude) {
 		this.destMACFromClientIDFilterExclude = destMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1730,6 +1830,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromClientIDFilterExclude(Boolean destMACFromClientIDFilterExclude) {
 		this.destMACFromClientIDFilterExclude = destMACFromClientIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1767,6 +1868,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromUserClassIDFilter(byte[] sourceMACFromUserClassIDFilter) {
 		this.sourceMACFromUserClassIDFilter = sourceMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1786,6 +1888,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromUserClassIDFilter(byte[] sourceMACFromUserClassIDFilter) {
 		this.sourceMACFromUserClassIDFilter = sourceMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1815,6 +1918,7 @@ public class Filter {
 	 */
 	public void  setSourceMACFromUserClassIDFilterExclude(Boolean sourceMACFromUserClassIDFilterExclude) {
 		this.sourceMACFromUserClassIDFilterExclude = sourceMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1830,6 +1934,7 @@ public class Filter {
 	 */
 	public Filter withSourceMACFromUserClassIDFilterExclude(Boolean sourceMACFromUserClassIDFilterExclude) {
 		this.sourceMACFromUserClassIDFilterExclude = sourceMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1863,6 +1968,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromUserClassIDFilter(byte[] destMACFromUserClassIDFilter) {
 		this.destMACFromUserClassIDFilter = destMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1880,6 +1986,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromUserClassIDFilter(byte[] destMACFromUserClassIDFilter) {
 		this.destMACFromUserClassIDFilter = destMACFromUserClassIDFilter;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1905,6 +2012,7 @@ public class Filter {
 	 */
 	public void  setDestMACFromUserClassIDFilterExclude(Boolean destMACFromUserClassIDFilterExclude) {
 		this.destMACFromUserClassIDFilterExclude = destMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1918,6 +2026,7 @@ public class Filter {
 	 */
 	public Filter withDestMACFromUserClassIDFilterExclude(Boolean destMACFromUserClassIDFilterExclude) {
 		this.destMACFromUserClassIDFilterExclude = destMACFromUserClassIDFilterExclude;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1943,6 +2052,7 @@ public class Filter {
 	 */
 	public void  setDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1956,6 +2066,7 @@ public class Filter {
 	 */
 	public Filter withDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1977,6 +2088,7 @@ public class Filter {
 	 */
 	public void  setDestMask(IPPrefix destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1988,6 +2100,7 @@ public class Filter {
 	 */
 	public Filter withDestMask(IPPrefix destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -2013,6 +2126,7 @@ public class Filter {
 	 */
 	public void  setDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -2026,6 +2140,7 @@ public class Filter {
 	 */
 	public Filter withDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -2051,6 +2166,7 @@ public class Filter {
 	 */
 	public void  setSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -2064,6 +2180,7 @@ public class Filter {
 	 */
 	public Filter withSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -2085,6 +2202,7 @@ public class Filter {
 	 */
 	public void  setSourceMask(IPPrefix sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -2096,6 +2214,7 @@ public class Filter {
 	 */
 	public Filter withSourceMask(IPPrefix sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -2121,6 +2240,7 @@ public class Filter {
 	 */
 	public void  setSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -2134,6 +2254,7 @@ public class Filter {
 	 */
 	public Filter withSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -2159,6 +2280,7 @@ public class Filter {
 	 */
 	public void  setProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -2172,6 +2294,7 @@ public class Filter {
 	 */
 	public Filter withProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -2197,6 +2320,7 @@ public class Filter {
 	 */
 	public void  setProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -2210,6 +2334,7 @@ public class Filter {
 	 */
 	public Filter withProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -2235,6 +2360,7 @@ public class Filter {
 	 */
 	public void  setDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -2248,6 +2374,7 @@ public class Filter {
 	 */
 	public Filter withDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -2277,6 +2404,7 @@ public class Filter {
 	 */
 	public void  setDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -2292,6 +2420,7 @@ public class Filter {
 	 */
 	public Filter withDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -2317,6 +2446,7 @@ public class Filter {
 	 */
 	public void  setDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(40);}
 	}
 
 	/**
@@ -2330,6 +2460,7 @@ public class Filter {
 	 */
 	public Filter withDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(40);}
 		return this;
 	}
 
@@ -2355,6 +2486,7 @@ public class Filter {
 	 */
 	public void  setSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(41);}
 	}
 
 	/**
@@ -2368,6 +2500,7 @@ public class Filter {
 	 */
 	public Filter withSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(41);}
 		return this;
 	}
 
@@ -2397,6 +2530,7 @@ public class Filter {
 	 */
 	public void  setSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(42);}
 	}
 
 	/**
@@ -2412,6 +2546,7 @@ public class Filter {
 	 */
 	public Filter withSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(42);}
 		return this;
 	}
 
@@ -2437,6 +2572,7 @@ public class Filter {
 	 */
 	public void  setSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(43);}
 	}
 
 	/**
@@ -2450,6 +2586,7 @@ public class Filter {
 	 */
 	public Filter withSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(43);}
 		return this;
 	}
 
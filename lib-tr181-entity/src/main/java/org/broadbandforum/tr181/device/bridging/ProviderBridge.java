@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.bridging;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Provider Bridge table.
@@ -100,6 +103,16 @@ public class ProviderBridge {
 	@XmlList
 	public Collection<String> cvlANComponents;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ProviderBridge() {
 	}
 
@@ -122,6 +135,7 @@ public class ProviderBridge {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -133,6 +147,7 @@ public class ProviderBridge {
 	 */
 	public ProviderBridge withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -162,6 +177,7 @@ public class ProviderBridge {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -177,6 +193,7 @@ public class ProviderBridge {
 	 */
 	public ProviderBridge withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -198,6 +215,8 @@ public class ProviderBridge {
 	 */
 	public void  setAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -209,6 +228,8 @@ public class ProviderBridge {
 	 */
 	public ProviderBridge withAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -230,6 +251,7 @@ public class ProviderBridge {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -241,6 +263,7 @@ public class ProviderBridge {
 	 */
 	public ProviderBridge withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -262,6 +285,7 @@ public class ProviderBridge {
 	 */
 	public void  setSvlANComponent(String svlANComponent) {
 		this.svlANComponent = svlANComponent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -273,6 +297,7 @@ public class ProviderBridge {
 	 */
 	public ProviderBridge withSvlANComponent(String svlANComponent) {
 		this.svlANComponent = svlANComponent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -287,6 +312,17 @@ public class ProviderBridge {
 		return cvlANComponents;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|a {{object|#.Bridge}} instance that specifies a C-VLAN component for the {{object}}}}
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCvlANComponents() {
+		return cvlANComponents == null ? Collections.emptyList() : cvlANComponents;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|a {{object|#.Bridge}} instance that specifies a C-VLAN component for the {{object}}}}
 	 *
@@ -295,6 +331,7 @@ public class ProviderBridge {
 	 */
 	public void  setCvlANComponents(Collection<String> cvlANComponents) {
 		this.cvlANComponents = cvlANComponents;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -306,6 +343,7 @@ public class ProviderBridge {
 	 */
 	public ProviderBridge withCvlANComponents(String string) {
 		getCvlANComponents().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.bridging.bridge;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.bridging.bridge.port.PriorityCodePoint;
 import org.broadbandforum.tr181.device.bridging.bridge.port.Stats;
 
@@ -250,6 +253,16 @@ public class Port {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Port() {
 	}
 
@@ -276,6 +289,7 @@ public class Port {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -289,6 +303,7 @@ public class Port {
 	 */
 	public Port withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -322,6 +337,7 @@ public class Port {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -339,6 +355,7 @@ public class Port {
 	 */
 	public Port withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -360,6 +377,8 @@ public class Port {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -371,6 +390,8 @@ public class Port {
 	 */
 	public Port withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -392,6 +413,8 @@ public class Port {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -403,6 +426,8 @@ public class Port {
 	 */
 	public Port withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -424,6 +449,7 @@ public class Port {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -435,6 +461,7 @@ public class Port {
 	 */
 	public Port withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -451,6 +478,19 @@ public class Port {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}. 
+
+          When {{param|ManagementPort}} is set to {{true}} the CPE MUST set {{param}} to reference all non-management bridge ports that are within the same {{object|##.Bridge}} instance (and update {{param}} when subsequent non-management bridge ports are added or deleted on that ''Bridge''). The ACS SHOULD NOT set {{param}} in this case.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}. 
 
@@ -461,6 +501,7 @@ public class Port {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -474,6 +515,7 @@ public class Port {
 	 */
 	public Port withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -495,6 +537,7 @@ public class Port {
 	 */
 	public void  setManagementPort(Boolean managementPort) {
 		this.managementPort = managementPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -506,6 +549,7 @@ public class Port {
 	 */
 	public Port withManagementPort(Boolean managementPort) {
 		this.managementPort = managementPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -535,6 +579,7 @@ public class Port {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -550,6 +595,7 @@ public class Port {
 	 */
 	public Port withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -571,6 +617,7 @@ public class Port {
 	 */
 	public void  setDefaultUserPriority(Long defaultUserPriority) {
 		this.defaultUserPriority = defaultUserPriority;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -582,6 +629,7 @@ public class Port {
 	 */
 	public Port withDefaultUserPriority(Long defaultUserPriority) {
 		this.defaultUserPriority = defaultUserPriority;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -603,6 +651,7 @@ public class Port {
 	 */
 	public void  setPriorityRegeneration(Long priorityRegeneration) {
 		this.priorityRegeneration = priorityRegeneration;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -614,6 +663,7 @@ public class Port {
 	 */
 	public Port withPriorityRegeneration(Long priorityRegeneration) {
 		this.priorityRegeneration = priorityRegeneration;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -635,6 +685,7 @@ public class Port {
 	 */
 	public void  setPortState(String portState) {
 		this.portState = portState;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -646,6 +697,7 @@ public class Port {
 	 */
 	public Port withPortState(String portState) {
 		this.portState = portState;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -671,6 +723,7 @@ public class Port {
 	 */
 	public void  setPviD(Integer pviD) {
 		this.pviD = pviD;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -684,6 +737,7 @@ public class Port {
 	 */
 	public Port withPviD(Integer pviD) {
 		this.pviD = pviD;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -725,6 +779,7 @@ public class Port {
 	 */
 	public void  setTpiD(Long tpiD) {
 		this.tpiD = tpiD;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -746,6 +801,7 @@ public class Port {
 	 */
 	public Port withTpiD(Long tpiD) {
 		this.tpiD = tpiD;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -771,6 +827,7 @@ public class Port {
 	 */
 	public void  setAcceptableFrameTypes(String acceptableFrameTypes) {
 		this.acceptableFrameTypes = acceptableFrameTypes;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -784,6 +841,7 @@ public class Port {
 	 */
 	public Port withAcceptableFrameTypes(String acceptableFrameTypes) {
 		this.acceptableFrameTypes = acceptableFrameTypes;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -809,6 +867,7 @@ public class Port {
 	 */
 	public void  setIngressFiltering(Boolean ingressFiltering) {
 		this.ingressFiltering = ingressFiltering;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -822,6 +881,7 @@ public class Port {
 	 */
 	public Port withIngressFiltering(Boolean ingressFiltering) {
 		this.ingressFiltering = ingressFiltering;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -847,6 +907,7 @@ public class Port {
 	 */
 	public void  setServiceAccessPrioritySelection(Boolean serviceAccessPrioritySelection) {
 		this.serviceAccessPrioritySelection = serviceAccessPrioritySelection;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -860,6 +921,7 @@ public class Port {
 	 */
 	public Port withServiceAccessPrioritySelection(Boolean serviceAccessPrioritySelection) {
 		this.serviceAccessPrioritySelection = serviceAccessPrioritySelection;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -885,6 +947,7 @@ public class Port {
 	 */
 	public void  setServiceAccessPriorityTranslation(Long serviceAccessPriorityTranslation) {
 		this.serviceAccessPriorityTranslation = serviceAccessPriorityTranslation;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -898,6 +961,7 @@ public class Port {
 	 */
 	public Port withServiceAccessPriorityTranslation(Long serviceAccessPriorityTranslation) {
 		this.serviceAccessPriorityTranslation = serviceAccessPriorityTranslation;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -935,6 +999,7 @@ public class Port {
 	 */
 	public void  setPriorityTagging(Boolean priorityTagging) {
 		this.priorityTagging = priorityTagging;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -954,6 +1019,7 @@ public class Port {
 	 */
 	public Port withPriorityTagging(Boolean priorityTagging) {
 		this.priorityTagging = priorityTagging;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Bridge VLAN table.  If this table is supported, if MUST contain an entry for each VLAN known to the Bridge.
@@ -75,6 +77,16 @@ public class VLAN {
 	@Size(min = 1, max = 4094)
 	public Integer vlaNID;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VLAN() {
 	}
 
@@ -97,6 +109,7 @@ public class VLAN {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +121,7 @@ public class VLAN {
 	 */
 	public VLAN withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -129,6 +143,8 @@ public class VLAN {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -140,6 +156,8 @@ public class VLAN {
 	 */
 	public VLAN withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -161,6 +179,7 @@ public class VLAN {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -172,6 +191,7 @@ public class VLAN {
 	 */
 	public VLAN withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -193,6 +213,8 @@ public class VLAN {
 	 */
 	public void  setVlaNID(Integer vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -204,6 +226,8 @@ public class VLAN {
 	 */
 	public VLAN withVlaNID(Integer vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
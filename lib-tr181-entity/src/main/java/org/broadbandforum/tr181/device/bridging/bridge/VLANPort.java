@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Bridge VLAN egress port and untagged port membership table.
@@ -85,6 +87,16 @@ public class VLANPort {
 	@CWMPParameter(access = "readWrite")
 	public Boolean untagged;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VLANPort() {
 	}
 
@@ -107,6 +119,7 @@ public class VLANPort {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +131,7 @@ public class VLANPort {
 	 */
 	public VLANPort withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -139,6 +153,8 @@ public class VLANPort {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -150,6 +166,8 @@ public class VLANPort {
 	 */
 	public VLANPort withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -171,6 +189,8 @@ public class VLANPort {
 	 */
 	public void  setVlaN(String vlaN) {
 		this.vlaN = vlaN;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -182,6 +202,8 @@ public class VLANPort {
 	 */
 	public VLANPort withVlaN(String vlaN) {
 		this.vlaN = vlaN;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -203,6 +225,8 @@ public class VLANPort {
 	 */
 	public void  setPort(String port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -214,6 +238,8 @@ public class VLANPort {
 	 */
 	public VLANPort withPort(String port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -235,6 +261,7 @@ public class VLANPort {
 	 */
 	public void  setUntagged(Boolean untagged) {
 		this.untagged = untagged;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -246,6 +273,7 @@ public class VLANPort {
 	 */
 	public VLANPort withUntagged(Boolean untagged) {
 		this.untagged = untagged;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.bridging.bridge.port;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * {{object}} provides the management control for the processing of the Priority Code Point (PCP) field for the 802.1Q header as defined in {{bibref|802.1Q-2011|section 6.9.3 Priority Code Point Encoding}}.
@@ -102,6 +104,11 @@ public class PriorityCodePoint {
 	@XmlList
 	public Collection<String> pcpDecoding;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PriorityCodePoint() {
 	}
 
@@ -124,6 +131,7 @@ public class PriorityCodePoint {
 	 */
 	public void  setPcpSelection(Long pcpSelection) {
 		this.pcpSelection = pcpSelection;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +143,7 @@ public class PriorityCodePoint {
 	 */
 	public PriorityCodePoint withPcpSelection(Long pcpSelection) {
 		this.pcpSelection = pcpSelection;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +165,7 @@ public class PriorityCodePoint {
 	 */
 	public void  setUseDEI(Boolean useDEI) {
 		this.useDEI = useDEI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -167,6 +177,7 @@ public class PriorityCodePoint {
 	 */
 	public PriorityCodePoint withUseDEI(Boolean useDEI) {
 		this.useDEI = useDEI;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -188,6 +199,7 @@ public class PriorityCodePoint {
 	 */
 	public void  setRequireDropEncoding(Boolean requireDropEncoding) {
 		this.requireDropEncoding = requireDropEncoding;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -199,6 +211,7 @@ public class PriorityCodePoint {
 	 */
 	public PriorityCodePoint withRequireDropEncoding(Boolean requireDropEncoding) {
 		this.requireDropEncoding = requireDropEncoding;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -221,6 +234,25 @@ public class PriorityCodePoint {
 		return pcpEncoding;
 	}
 
+	/**
+	 * Read the this parameter provides the management control for the processing of the encoding of the Priority Code Point (PCP) field for the 802.1Q header as defined in {{bibref|802.1Q-2011|section 6.9.3 Priority Code Point Encoding}} and {{bibref|802.1Q-2011|Table 6-3}}.
+
+          The list is an ordered list that contains entries for the following 4 PCP Values: "8P0D","7P1D", "6P2D" "5P3D".  Each list entry matches the following pattern:
+
+          {{pattern}}
+
+          The value of this parameter MUST use square brackets to protect comma separators within nested lists.  For example, this corresponds to Table 6-3 (mentioned above):
+
+          : [7,7,6,6,5,5,4,4,3,3,2,2,1,1,0,0],[7,7,6,6,5,4,5,4,3,3,2,2,1,1,0,0],[7,7,6,6,5,4,5,4,3,2,3,2,1,1,0,0],[7,7,6,6,5,4,5,4,3,2,3,2,1,0,1,0]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPcpEncoding() {
+		return pcpEncoding == null ? Collections.emptyList() : pcpEncoding;
+	}
+
 	/**
 	 * Set the this parameter provides the management control for the processing of the encoding of the Priority Code Point (PCP) field for the 802.1Q header as defined in {{bibref|802.1Q-2011|section 6.9.3 Priority Code Point Encoding}} and {{bibref|802.1Q-2011|Table 6-3}}.
 
@@ -237,6 +269,7 @@ public class PriorityCodePoint {
 	 */
 	public void  setPcpEncoding(Collection<String> pcpEncoding) {
 		this.pcpEncoding = pcpEncoding;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -256,6 +289,7 @@ public class PriorityCodePoint {
 	 */
 	public PriorityCodePoint withPcpEncoding(String string) {
 		getPcpEncoding().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -278,6 +312,25 @@ public class PriorityCodePoint {
 		return pcpDecoding;
 	}
 
+	/**
+	 * Read the this parameter provides the management control for the processing of the decoding of the Priority Code Point (PCP) field for the 802.1Q header as defined in {{bibref|802.1Q-2011|section 6.9.3 Priority Code Point Encoding}} and {{bibref|802.1Q-2011|Table 6-4}}.
+
+          The list is an ordered list that contains entries for the following 4 PCP Values: "8P0D","7P1D", "6P2D" "5P3D".  Each list entry matches the following pattern:
+
+          {{pattern}}
+
+          The value of this parameter MUST use square brackets to protect comma separators within nested lists.  For example, this corresponds to Table 6-4 (mentioned above):
+
+          : [7,0,6,0,5,0,4,0,3,0,2,0,1,0,0,0],[7,0,6,0,4,0,4,1,3,0,2,0,1,0,0,0],[7,0,6,0,4,0,4,1,2,0,2,1,1,0,0,0],[7,0,6,0,4,0,4,1,2,0,2,1,0,0,0,1]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPcpDecoding() {
+		return pcpDecoding == null ? Collections.emptyList() : pcpDecoding;
+	}
+
 	/**
 	 * Set the this parameter provides the management control for the processing of the decoding of the Priority Code Point (PCP) field for the 802.1Q header as defined in {{bibref|802.1Q-2011|section 6.9.3 Priority Code Point Encoding}} and {{bibref|802.1Q-2011|Table 6-4}}.
 
@@ -294,6 +347,7 @@ public class PriorityCodePoint {
 	 */
 	public void  setPcpDecoding(Collection<String> pcpDecoding) {
 		this.pcpDecoding = pcpDecoding;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -313,6 +367,7 @@ public class PriorityCodePoint {
 	 */
 	public PriorityCodePoint withPcpDecoding(String string) {
 		getPcpDecoding().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Throughput statistics for this interface.
@@ -157,6 +158,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long unknownProtoPacketsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -179,6 +185,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -190,6 +197,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -211,6 +219,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -222,6 +231,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -243,6 +253,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -254,6 +265,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -275,6 +287,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -286,6 +299,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -307,6 +321,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -318,6 +333,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -339,6 +355,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -350,6 +367,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -371,6 +389,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -382,6 +401,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -403,6 +423,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -414,6 +435,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -435,6 +457,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -446,6 +469,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -467,6 +491,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -478,6 +503,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -499,6 +525,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -510,6 +537,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -531,6 +559,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -542,6 +571,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -563,6 +593,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -574,6 +605,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -595,6 +627,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -606,6 +639,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -627,6 +661,7 @@ public class Stats {
 	 */
 	public void  setUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -638,6 +673,7 @@ public class Stats {
 	 */
 	public Stats withUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object represents an instance of a parameter to be used in the report header used as part of the HTTP Request-URI transmitted by the CPE to the collection server using the Request-URI in addition to the parameters required by {{bibref|TR-157a10|Annex A.2.1}}.
@@ -58,6 +59,11 @@ public class RequestURIParameter {
 	@Size(max = 256)
 	public String reference;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RequestURIParameter() {
 	}
 
@@ -84,6 +90,7 @@ public class RequestURIParameter {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -97,6 +104,7 @@ public class RequestURIParameter {
 	 */
 	public RequestURIParameter withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,6 +130,7 @@ public class RequestURIParameter {
 	 */
 	public void  setReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -135,6 +144,7 @@ public class RequestURIParameter {
 	 */
 	public RequestURIParameter withReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
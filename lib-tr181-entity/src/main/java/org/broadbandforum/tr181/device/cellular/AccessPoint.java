@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Cellular Access Point table. Each entry is identified by an {{param|APN}} (Access Point Name) that identifies a gateway between the mobile network and another computer network.
@@ -109,6 +111,16 @@ public class AccessPoint {
 	@CWMPParameter(access = "readWrite")
 	public String _interface;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AccessPoint() {
 	}
 
@@ -131,6 +143,7 @@ public class AccessPoint {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -142,6 +155,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,8 @@ public class AccessPoint {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -174,6 +190,8 @@ public class AccessPoint {
 	 */
 	public AccessPoint withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -195,6 +213,8 @@ public class AccessPoint {
 	 */
 	public void  setApn(String apn) {
 		this.apn = apn;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -206,6 +226,8 @@ public class AccessPoint {
 	 */
 	public AccessPoint withApn(String apn) {
 		this.apn = apn;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -227,6 +249,7 @@ public class AccessPoint {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -238,6 +261,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -259,6 +283,7 @@ public class AccessPoint {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -270,6 +295,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -291,6 +317,7 @@ public class AccessPoint {
 	 */
 	public void  setProxy(IPAddress proxy) {
 		this.proxy = proxy;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -302,6 +329,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withProxy(IPAddress proxy) {
 		this.proxy = proxy;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -323,6 +351,7 @@ public class AccessPoint {
 	 */
 	public void  setProxyPort(Long proxyPort) {
 		this.proxyPort = proxyPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -334,6 +363,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withProxyPort(Long proxyPort) {
 		this.proxyPort = proxyPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -355,6 +385,8 @@ public class AccessPoint {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -366,6 +398,8 @@ public class AccessPoint {
 	 */
 	public AccessPoint with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
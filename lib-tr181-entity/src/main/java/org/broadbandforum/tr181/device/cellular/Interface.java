@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.cellular;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.cellular._interface.Stats;
 import org.broadbandforum.tr181.device.cellular._interface.USIM;
 
@@ -230,6 +233,16 @@ public class Interface {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -256,6 +269,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -269,6 +283,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -322,6 +337,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -349,6 +365,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -370,6 +387,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -381,6 +400,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -402,6 +423,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -413,6 +436,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -434,6 +459,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -445,6 +471,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -461,6 +488,19 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -471,6 +511,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -484,6 +525,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -521,6 +563,7 @@ public class Interface {
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -540,6 +583,7 @@ public class Interface {
 	 */
 	public Interface withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -561,6 +605,7 @@ public class Interface {
 	 */
 	public void  setImeI(String imeI) {
 		this.imeI = imeI;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -572,6 +617,7 @@ public class Interface {
 	 */
 	public Interface withImeI(String imeI) {
 		this.imeI = imeI;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -586,6 +632,17 @@ public class Interface {
 		return supportedAccessTechnologies;
 	}
 
+	/**
+	 * Get access technologies supported by the interface.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedAccessTechnologies() {
+		return supportedAccessTechnologies == null ? Collections.emptyList() : supportedAccessTechnologies;
+	}
+
 	/**
 	 * Set access technologies supported by the interface.
 	 *
@@ -594,6 +651,7 @@ public class Interface {
 	 */
 	public void  setSupportedAccessTechnologies(Collection<String> supportedAccessTechnologies) {
 		this.supportedAccessTechnologies = supportedAccessTechnologies;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -605,6 +663,7 @@ public class Interface {
 	 */
 	public Interface withSupportedAccessTechnologies(String string) {
 		getSupportedAccessTechnologies().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -626,6 +685,7 @@ public class Interface {
 	 */
 	public void  setPreferredAccessTechnology(String preferredAccessTechnology) {
 		this.preferredAccessTechnology = preferredAccessTechnology;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -637,6 +697,7 @@ public class Interface {
 	 */
 	public Interface withPreferredAccessTechnology(String preferredAccessTechnology) {
 		this.preferredAccessTechnology = preferredAccessTechnology;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -658,6 +719,7 @@ public class Interface {
 	 */
 	public void  setCurrentAccessTechnology(String currentAccessTechnology) {
 		this.currentAccessTechnology = currentAccessTechnology;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -669,6 +731,7 @@ public class Interface {
 	 */
 	public Interface withCurrentAccessTechnology(String currentAccessTechnology) {
 		this.currentAccessTechnology = currentAccessTechnology;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -683,6 +746,17 @@ public class Interface {
 		return availableNetworks;
 	}
 
+	/**
+	 * Read the list of available networks.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAvailableNetworks() {
+		return availableNetworks == null ? Collections.emptyList() : availableNetworks;
+	}
+
 	/**
 	 * Set the list of available networks.
 	 *
@@ -691,6 +765,7 @@ public class Interface {
 	 */
 	public void  setAvailableNetworks(Collection<String> availableNetworks) {
 		this.availableNetworks = availableNetworks;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -702,6 +777,7 @@ public class Interface {
 	 */
 	public Interface withAvailableNetworks(String string) {
 		getAvailableNetworks().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -723,6 +799,7 @@ public class Interface {
 	 */
 	public void  setNetworkRequested(String networkRequested) {
 		this.networkRequested = networkRequested;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -734,6 +811,7 @@ public class Interface {
 	 */
 	public Interface withNetworkRequested(String networkRequested) {
 		this.networkRequested = networkRequested;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -755,6 +833,7 @@ public class Interface {
 	 */
 	public void  setNetworkInUse(String networkInUse) {
 		this.networkInUse = networkInUse;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -766,6 +845,7 @@ public class Interface {
 	 */
 	public Interface withNetworkInUse(String networkInUse) {
 		this.networkInUse = networkInUse;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -803,6 +883,7 @@ public class Interface {
 	 */
 	public void  setRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -822,6 +903,7 @@ public class Interface {
 	 */
 	public Interface withRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -843,6 +925,7 @@ public class Interface {
 	 */
 	public void  setUpstreamMaxBitRate(Long upstreamMaxBitRate) {
 		this.upstreamMaxBitRate = upstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -854,6 +937,7 @@ public class Interface {
 	 */
 	public Interface withUpstreamMaxBitRate(Long upstreamMaxBitRate) {
 		this.upstreamMaxBitRate = upstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -875,6 +959,7 @@ public class Interface {
 	 */
 	public void  setDownstreamMaxBitRate(Long downstreamMaxBitRate) {
 		this.downstreamMaxBitRate = downstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -886,6 +971,7 @@ public class Interface {
 	 */
 	public Interface withDownstreamMaxBitRate(Long downstreamMaxBitRate) {
 		this.downstreamMaxBitRate = downstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
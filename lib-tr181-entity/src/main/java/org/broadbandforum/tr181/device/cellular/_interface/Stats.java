@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter64;
 
 	/**
@@ -158,6 +159,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public StatsCounter64 unknownProtoPacketsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -180,6 +186,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -191,6 +198,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -212,6 +220,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -223,6 +232,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -244,6 +254,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -255,6 +266,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -276,6 +288,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -287,6 +300,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -308,6 +322,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter64 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -319,6 +334,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter64 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -340,6 +356,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(StatsCounter64 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -351,6 +368,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(StatsCounter64 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -372,6 +390,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsSent(StatsCounter64 unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -383,6 +402,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsSent(StatsCounter64 unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -404,6 +424,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsReceived(StatsCounter64 unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -415,6 +436,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsReceived(StatsCounter64 unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -436,6 +458,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(StatsCounter64 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -447,6 +470,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(StatsCounter64 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -468,6 +492,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(StatsCounter64 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -479,6 +504,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(StatsCounter64 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -500,6 +526,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsSent(StatsCounter64 multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -511,6 +538,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsSent(StatsCounter64 multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -532,6 +560,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsReceived(StatsCounter64 multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -543,6 +572,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsReceived(StatsCounter64 multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -564,6 +594,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsSent(StatsCounter64 broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -575,6 +606,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsSent(StatsCounter64 broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -596,6 +628,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsReceived(StatsCounter64 broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -607,6 +640,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsReceived(StatsCounter64 broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -628,6 +662,7 @@ public class Stats {
 	 */
 	public void  setUnknownProtoPacketsReceived(StatsCounter64 unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -639,6 +674,7 @@ public class Stats {
 	 */
 	public Stats withUnknownProtoPacketsReceived(StatsCounter64 unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
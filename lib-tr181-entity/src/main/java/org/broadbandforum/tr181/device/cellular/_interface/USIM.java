@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * USIM (Universal Subscriber Identity Module or SIM card) parameters for the interface.
@@ -100,6 +101,11 @@ public class USIM {
 	@Size(max = 4)
 	public String pin;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public USIM() {
 	}
 
@@ -122,6 +128,7 @@ public class USIM {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -133,6 +140,7 @@ public class USIM {
 	 */
 	public USIM withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -154,6 +162,7 @@ public class USIM {
 	 */
 	public void  setImsI(String imsI) {
 		this.imsI = imsI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -165,6 +174,7 @@ public class USIM {
 	 */
 	public USIM withImsI(String imsI) {
 		this.imsI = imsI;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -210,6 +220,7 @@ public class USIM {
 	 */
 	public void  setIccID(String iccID) {
 		this.iccID = iccID;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -233,6 +244,7 @@ public class USIM {
 	 */
 	public USIM withIccID(String iccID) {
 		this.iccID = iccID;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -254,6 +266,7 @@ public class USIM {
 	 */
 	public void  setMsiSDN(String msiSDN) {
 		this.msiSDN = msiSDN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -265,6 +278,7 @@ public class USIM {
 	 */
 	public USIM withMsiSDN(String msiSDN) {
 		this.msiSDN = msiSDN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -286,6 +300,7 @@ public class USIM {
 	 */
 	public void  setPinCheck(String pinCheck) {
 		this.pinCheck = pinCheck;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -297,6 +312,7 @@ public class USIM {
 	 */
 	public USIM withPinCheck(String pinCheck) {
 		this.pinCheck = pinCheck;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -318,6 +334,7 @@ public class USIM {
 	 */
 	public void  setPin(String pin) {
 		this.pin = pin;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -329,6 +346,7 @@ public class USIM {
 	 */
 	public USIM withPin(String pin) {
 		this.pin = pin;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
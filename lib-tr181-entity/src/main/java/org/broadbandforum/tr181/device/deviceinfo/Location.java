@@ -22,9 +22,13 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains Location information.
@@ -50,6 +54,7 @@ public class Location {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "AcquiredTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime acquiredTime;
 	/**
 	 * URL, MAC address, or other identifier that identifies an "External" source of this location.
@@ -95,6 +100,16 @@ public class Location {
 	@Size(max = 1200)
 	public String dataObject;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Location() {
 	}
 
@@ -117,6 +132,8 @@ public class Location {
 	 */
 	public void  setSource(String source) {
 		this.source = source;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -128,6 +145,8 @@ public class Location {
 	 */
 	public Location withSource(String source) {
 		this.source = source;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -149,6 +168,7 @@ public class Location {
 	 */
 	public void  setAcquiredTime(LocalDateTime acquiredTime) {
 		this.acquiredTime = acquiredTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -160,6 +180,7 @@ public class Location {
 	 */
 	public Location withAcquiredTime(LocalDateTime acquiredTime) {
 		this.acquiredTime = acquiredTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -189,6 +210,8 @@ public class Location {
 	 */
 	public void  setExternalSource(String externalSource) {
 		this.externalSource = externalSource;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -204,6 +227,8 @@ public class Location {
 	 */
 	public Location withExternalSource(String externalSource) {
 		this.externalSource = externalSource;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -229,6 +254,7 @@ public class Location {
 	 */
 	public void  setExternalProtocol(String externalProtocol) {
 		this.externalProtocol = externalProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -242,6 +268,7 @@ public class Location {
 	 */
 	public Location withExternalProtocol(String externalProtocol) {
 		this.externalProtocol = externalProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -291,6 +318,7 @@ public class Location {
 	 */
 	public void  setDataObject(String dataObject) {
 		this.dataObject = dataObject;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -316,6 +344,7 @@ public class Location {
 	 */
 	public Location withDataObject(String dataObject) {
 		this.dataObject = dataObject;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
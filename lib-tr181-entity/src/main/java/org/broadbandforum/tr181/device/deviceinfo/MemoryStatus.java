@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Status of the device's volatile physical memory.
@@ -50,6 +51,11 @@ public class MemoryStatus {
 	@CWMPParameter(activeNotify = "canDeny", units = "kilobytes")
 	public Long free;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MemoryStatus() {
 	}
 
@@ -72,6 +78,7 @@ public class MemoryStatus {
 	 */
 	public void  setTotal(Long total) {
 		this.total = total;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -83,6 +90,7 @@ public class MemoryStatus {
 	 */
 	public MemoryStatus withTotal(Long total) {
 		this.total = total;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -104,6 +112,7 @@ public class MemoryStatus {
 	 */
 	public void  setFree(Long free) {
 		this.free = free;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -115,6 +124,7 @@ public class MemoryStatus {
 	 */
 	public MemoryStatus withFree(Long free) {
 		this.free = free;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
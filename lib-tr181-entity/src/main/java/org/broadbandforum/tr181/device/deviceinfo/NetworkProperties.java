@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.deviceinfo;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object defines the parameters that describe how the device handles network traffic.
@@ -56,6 +58,11 @@ Enumerated value must be one of [Tahoe, Reno, New Reno, Vegas]
 	@XmlList
 	public Collection<String> tcpImplementation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NetworkProperties() {
 	}
 
@@ -78,6 +85,7 @@ Enumerated value must be one of [Tahoe, Reno, New Reno, Vegas]
 	 */
 	public void  setMaxTCPWindowSize(Long maxTCPWindowSize) {
 		this.maxTCPWindowSize = maxTCPWindowSize;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -89,6 +97,7 @@ Enumerated value must be one of [Tahoe, Reno, New Reno, Vegas]
 	 */
 	public NetworkProperties withMaxTCPWindowSize(Long maxTCPWindowSize) {
 		this.maxTCPWindowSize = maxTCPWindowSize;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -107,6 +116,21 @@ Enumerated value must be one of [Tahoe, Reno, New Reno, Vegas]
 		return tcpImplementation;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the TCP congestion control mechanism(s) implemented. 
+
+Enumerated value must be one of [Tahoe, Reno, New Reno, Vegas]
+
+          Tahoe, Reno, and New Reno are defined in {{bibref|RFC2582}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTcpImplementation() {
+		return tcpImplementation == null ? Collections.emptyList() : tcpImplementation;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the TCP congestion control mechanism(s) implemented. 
 
@@ -119,6 +143,7 @@ Enumerated value must be one of [Tahoe, Reno, New Reno, Vegas]
 	 */
 	public void  setTcpImplementation(Collection<String> tcpImplementation) {
 		this.tcpImplementation = tcpImplementation;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -134,6 +159,7 @@ Enumerated value must be one of [Tahoe, Reno, New Reno, Vegas]
 	 */
 	public NetworkProperties withTcpImplementation(String string) {
 		getTcpImplementation().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
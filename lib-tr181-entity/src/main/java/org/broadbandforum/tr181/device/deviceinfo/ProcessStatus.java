@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.deviceinfo;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.deviceinfo.processstatus.Process;
 
 	/**
@@ -55,6 +57,11 @@ public class ProcessStatus {
 	@XmlElement(name = "Process")
 	public Collection<Process> processs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ProcessStatus() {
 	}
 
@@ -77,6 +84,7 @@ public class ProcessStatus {
 	 */
 	public void  setCpuUsage(Long cpuUsage) {
 		this.cpuUsage = cpuUsage;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -88,6 +96,7 @@ public class ProcessStatus {
 	 */
 	public ProcessStatus withCpuUsage(Long cpuUsage) {
 		this.cpuUsage = cpuUsage;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -97,10 +106,20 @@ public class ProcessStatus {
 	 * @return the value
 	 */
 	public Collection<Process> getProcesss() {
-		if (this.processs == null){ this.processs=new ArrayList<>();}
+		if (!(this.processs instanceof InstanceTable)){ this.processs=InstanceTable.of(this.processs);}
 		return processs;
 	}
 
+	/**
+	 * Read the list of all processes running on the device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Process> viewProcesss() {
+		return processs == null ? Collections.emptyList() : processs;
+	}
+
 	/**
 	 * Set the list of all processes running on the device.
 	 *
@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each table entry represents a hardware or virtual processor that resides on this device.
@@ -54,6 +56,16 @@ public class Processor {
 	@XmlElement(name = "Architecture")
 	public String architecture;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Processor() {
 	}
 
@@ -76,6 +88,8 @@ public class Processor {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -87,6 +101,8 @@ public class Processor {
 	 */
 	public Processor withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -112,6 +128,7 @@ public class Processor {
 	 */
 	public void  setArchitecture(String architecture) {
 		this.architecture = architecture;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -125,6 +142,7 @@ public class Processor {
 	 */
 	public Processor withArchitecture(String architecture) {
 		this.architecture = architecture;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
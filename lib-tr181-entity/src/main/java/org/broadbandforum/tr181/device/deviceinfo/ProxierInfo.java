@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Represents the associated CPE Proxier for a Proxied Device that utilizes the Virtual CWMP Device Mechanism {{bibref|TR-069a4|Annex J.1.1}}.
@@ -74,6 +75,11 @@ public class ProxierInfo {
 	@XmlElement(name = "ProxyProtocol")
 	public String proxyProtocol;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ProxierInfo() {
 	}
 
@@ -100,6 +106,7 @@ public class ProxierInfo {
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +120,7 @@ public class ProxierInfo {
 	 */
 	public ProxierInfo withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -138,6 +146,7 @@ public class ProxierInfo {
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -151,6 +160,7 @@ public class ProxierInfo {
 	 */
 	public ProxierInfo withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -172,6 +182,7 @@ public class ProxierInfo {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -183,6 +194,7 @@ public class ProxierInfo {
 	 */
 	public ProxierInfo withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -208,6 +220,7 @@ public class ProxierInfo {
 	 */
 	public void  setProxyProtocol(String proxyProtocol) {
 		this.proxyProtocol = proxyProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -221,6 +234,7 @@ public class ProxierInfo {
 	 */
 	public ProxierInfo withProxyProtocol(String proxyProtocol) {
 		this.proxyProtocol = proxyProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
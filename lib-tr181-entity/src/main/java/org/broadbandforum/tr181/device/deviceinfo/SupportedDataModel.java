@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.deviceinfo;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.UUID;
 
 	/**
@@ -111,6 +114,16 @@ public class SupportedDataModel {
 	@XmlList
 	public Collection<String> features;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SupportedDataModel() {
 	}
 
@@ -133,6 +146,8 @@ public class SupportedDataModel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -144,6 +159,8 @@ public class SupportedDataModel {
 	 */
 	public SupportedDataModel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -185,6 +202,8 @@ public class SupportedDataModel {
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -206,6 +225,8 @@ public class SupportedDataModel {
 	 */
 	public SupportedDataModel withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -227,6 +248,8 @@ public class SupportedDataModel {
 	 */
 	public void  setUuiD(UUID uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -238,6 +261,8 @@ public class SupportedDataModel {
 	 */
 	public SupportedDataModel withUuiD(UUID uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -263,6 +288,7 @@ public class SupportedDataModel {
 	 */
 	public void  setUrn(String urn) {
 		this.urn = urn;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -276,6 +302,7 @@ public class SupportedDataModel {
 	 */
 	public SupportedDataModel withUrn(String urn) {
 		this.urn = urn;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -300,6 +327,27 @@ public class SupportedDataModel {
 		return features;
 	}
 
+	/**
+	 * Read the this parameter MUST list exactly the features that are defined using the top-level ''feature'' element in the DT Instance referenced by {{param|URL}}.
+
+          For example, if the DT instance specified the following:
+
+          :<feature name="DNSServer"/>
+
+          :<feature name="Router"/>
+
+          :<feature name="X_MyDeviceFeature"/>
+
+          then the value of this parameter might be ''DNSServer,Router,X_MyDeviceFeature''.  The order in which the features are listed is not significant.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFeatures() {
+		return features == null ? Collections.emptyList() : features;
+	}
+
 	/**
 	 * Set the this parameter MUST list exactly the features that are defined using the top-level ''feature'' element in the DT Instance referenced by {{param|URL}}.
 
@@ -318,6 +366,7 @@ public class SupportedDataModel {
 	 */
 	public void  setFeatures(Collection<String> features) {
 		this.features = features;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -339,6 +388,7 @@ public class SupportedDataModel {
 	 */
 	public SupportedDataModel withFeatures(String string) {
 		getFeatures().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
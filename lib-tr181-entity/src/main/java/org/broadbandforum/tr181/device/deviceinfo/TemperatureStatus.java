@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.deviceinfo;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.deviceinfo.temperaturestatus.TemperatureSensor;
 
 	/**
@@ -54,10 +55,20 @@ public class TemperatureStatus {
 	 * @return the value
 	 */
 	public Collection<TemperatureSensor> getTemperatureSensors() {
-		if (this.temperatureSensors == null){ this.temperatureSensors=new ArrayList<>();}
+		if (!(this.temperatureSensors instanceof InstanceTable)){ this.temperatureSensors=InstanceTable.of(this.temperatureSensors);}
 		return temperatureSensors;
 	}
 
+	/**
+	 * Read the this object represents information that the device has obtained via sampling an internal temperature sensor.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<TemperatureSensor> viewTemperatureSensors() {
+		return temperatureSensors == null ? Collections.emptyList() : temperatureSensors;
+	}
+
 	/**
 	 * Set the this object represents information that the device has obtained via sampling an internal temperature sensor.
 	 *
@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Every instance of this object is a Vendor Configuration File, and contains parameters associated with the Vendor  Configuration File.
@@ -83,6 +87,7 @@ public class VendorConfigFile {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "Date")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime date;
 	/**
 	 * A description of the vendor configuration file (human-readable string).
@@ -102,6 +107,16 @@ public class VendorConfigFile {
 	@XmlElement(name = "UseForBackupRestore")
 	public Boolean useForBackupRestore;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VendorConfigFile() {
 	}
 
@@ -124,6 +139,8 @@ public class VendorConfigFile {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -135,6 +152,8 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -168,6 +187,8 @@ public class VendorConfigFile {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -185,6 +206,8 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -214,6 +237,7 @@ public class VendorConfigFile {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +253,7 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -250,6 +275,7 @@ public class VendorConfigFile {
 	 */
 	public void  setDate(LocalDateTime date) {
 		this.date = date;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +287,7 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withDate(LocalDateTime date) {
 		this.date = date;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +309,7 @@ public class VendorConfigFile {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +321,7 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -318,6 +347,7 @@ public class VendorConfigFile {
 	 */
 	public void  setUseForBackupRestore(Boolean useForBackupRestore) {
 		this.useForBackupRestore = useForBackupRestore;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -331,6 +361,7 @@ public class VendorConfigFile {
 	 */
 	public VendorConfigFile withUseForBackupRestore(Boolean useForBackupRestore) {
 		this.useForBackupRestore = useForBackupRestore;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
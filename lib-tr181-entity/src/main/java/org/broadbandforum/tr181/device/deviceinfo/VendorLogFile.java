@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each table entry represents a Vendor Log File. 
@@ -75,6 +77,16 @@ public class VendorLogFile {
 	@XmlElement(name = "Persistent")
 	public Boolean persistent;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VendorLogFile() {
 	}
 
@@ -97,6 +109,8 @@ public class VendorLogFile {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -108,6 +122,8 @@ public class VendorLogFile {
 	 */
 	public VendorLogFile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -133,6 +149,8 @@ public class VendorLogFile {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -146,6 +164,8 @@ public class VendorLogFile {
 	 */
 	public VendorLogFile withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +187,7 @@ public class VendorLogFile {
 	 */
 	public void  setMaximumSize(Long maximumSize) {
 		this.maximumSize = maximumSize;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -178,6 +199,7 @@ public class VendorLogFile {
 	 */
 	public VendorLogFile withMaximumSize(Long maximumSize) {
 		this.maximumSize = maximumSize;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -203,6 +225,7 @@ public class VendorLogFile {
 	 */
 	public void  setPersistent(Boolean persistent) {
 		this.persistent = persistent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -216,6 +239,7 @@ public class VendorLogFile {
 	 */
 	public VendorLogFile withPersistent(Boolean persistent) {
 		this.persistent = persistent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * List of all processes running on the device.
@@ -84,6 +86,16 @@ public class Process {
 	@CWMPParameter(activeNotify = "canDeny")
 	public String state;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Process() {
 	}
 
@@ -106,6 +118,8 @@ public class Process {
 	 */
 	public void  setPid(Long pid) {
 		this.pid = pid;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -117,6 +131,8 @@ public class Process {
 	 */
 	public Process withPid(Long pid) {
 		this.pid = pid;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -138,6 +154,7 @@ public class Process {
 	 */
 	public void  setCommand(String command) {
 		this.command = command;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -149,6 +166,7 @@ public class Process {
 	 */
 	public Process withCommand(String command) {
 		this.command = command;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -170,6 +188,7 @@ public class Process {
 	 */
 	public void  setSize(Long size) {
 		this.size = size;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -181,6 +200,7 @@ public class Process {
 	 */
 	public Process withSize(Long size) {
 		this.size = size;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -202,6 +222,7 @@ public class Process {
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -213,6 +234,7 @@ public class Process {
 	 */
 	public Process withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -234,6 +256,7 @@ public class Process {
 	 */
 	public void  setCpuTime(Long cpuTime) {
 		this.cpuTime = cpuTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -245,6 +268,7 @@ public class Process {
 	 */
 	public Process withCpuTime(Long cpuTime) {
 		this.cpuTime = cpuTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -266,6 +290,7 @@ public class Process {
 	 */
 	public void  setState(String state) {
 		this.state = state;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -277,6 +302,7 @@ public class Process {
 	 */
 	public Process withState(String state) {
 		this.state = state;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
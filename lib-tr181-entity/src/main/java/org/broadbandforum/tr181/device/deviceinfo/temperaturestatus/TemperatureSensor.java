@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object represents information that the device has obtained via sampling an internal temperature sensor.
@@ -86,6 +90,7 @@ public class TemperatureSensor {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ResetTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime resetTime;
 	/**
 	 * Name of this temperature sensor. This text MUST be sufficient to distinguish this temperature sensor from other temperature sensors.
@@ -114,6 +119,7 @@ public class TemperatureSensor {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime lastUpdate;
 	/**
@@ -134,6 +140,7 @@ public class TemperatureSensor {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "MinTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime minTime;
 	/**
 	 * This temperature sensor's highest value  reading in degrees celsius since last reset.
@@ -153,6 +160,7 @@ public class TemperatureSensor {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "MaxTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime maxTime;
 	/**
 	 * This temperature sensor's low alarm value in degrees celsius.
@@ -177,6 +185,7 @@ public class TemperatureSensor {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LowAlarmTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lowAlarmTime;
 	/**
 	 * This temperature sensor's high alarm value in degrees celsius.
@@ -213,8 +222,19 @@ public class TemperatureSensor {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "HighAlarmTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime highAlarmTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public TemperatureSensor() {
 	}
 
@@ -237,6 +257,8 @@ public class TemperatureSensor {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -248,6 +270,8 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -269,6 +293,7 @@ public class TemperatureSensor {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -280,6 +305,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -301,6 +327,7 @@ public class TemperatureSensor {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -312,6 +339,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -333,6 +361,7 @@ public class TemperatureSensor {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -344,6 +373,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -385,6 +415,7 @@ public class TemperatureSensor {
 	 */
 	public void  setResetTime(LocalDateTime resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -406,6 +437,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withResetTime(LocalDateTime resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -427,6 +459,8 @@ public class TemperatureSensor {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -438,6 +472,8 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -463,6 +499,7 @@ public class TemperatureSensor {
 	 */
 	public void  setValue(Integer value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -476,6 +513,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withValue(Integer value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -501,6 +539,7 @@ public class TemperatureSensor {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -514,6 +553,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -539,6 +579,7 @@ public class TemperatureSensor {
 	 */
 	public void  setMinValue(Integer minValue) {
 		this.minValue = minValue;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -552,6 +593,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withMinValue(Integer minValue) {
 		this.minValue = minValue;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -577,6 +619,7 @@ public class TemperatureSensor {
 	 */
 	public void  setMinTime(LocalDateTime minTime) {
 		this.minTime = minTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -590,6 +633,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withMinTime(LocalDateTime minTime) {
 		this.minTime = minTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -615,6 +659,7 @@ public class TemperatureSensor {
 	 */
 	public void  setMaxValue(Integer maxValue) {
 		this.maxValue = maxValue;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -628,6 +673,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withMaxValue(Integer maxValue) {
 		this.maxValue = maxValue;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -653,6 +699,7 @@ public class TemperatureSensor {
 	 */
 	public void  setMaxTime(LocalDateTime maxTime) {
 		this.maxTime = maxTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -666,6 +713,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withMaxTime(LocalDateTime maxTime) {
 		this.maxTime = maxTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -695,6 +743,7 @@ public class TemperatureSensor {
 	 */
 	public void  setLowAlarmValue(Integer lowAlarmValue) {
 		this.lowAlarmValue = lowAlarmValue;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -710,6 +759,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withLowAlarmValue(Integer lowAlarmValue) {
 		this.lowAlarmValue = lowAlarmValue;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -739,6 +789,7 @@ public class TemperatureSensor {
 	 */
 	public void  setLowAlarmTime(LocalDateTime lowAlarmTime) {
 		this.lowAlarmTime = lowAlarmTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -754,6 +805,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withLowAlarmTime(LocalDateTime lowAlarmTime) {
 		this.lowAlarmTime = lowAlarmTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -783,6 +835,7 @@ public class TemperatureSensor {
 	 */
 	public void  setHighAlarmValue(Integer highAlarmValue) {
 		this.highAlarmValue = highAlarmValue;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -798,6 +851,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withHighAlarmValue(Integer highAlarmValue) {
 		this.highAlarmValue = highAlarmValue;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -827,6 +881,7 @@ public class TemperatureSensor {
 	 */
 	public void  setPollingInterval(Long pollingInterval) {
 		this.pollingInterval = pollingInterval;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -842,6 +897,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withPollingInterval(Long pollingInterval) {
 		this.pollingInterval = pollingInterval;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -871,6 +927,7 @@ public class TemperatureSensor {
 	 */
 	public void  setHighAlarmTime(LocalDateTime highAlarmTime) {
 		this.highAlarmTime = highAlarmTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -886,6 +943,7 @@ public class TemperatureSensor {
 	 */
 	public TemperatureSensor withHighAlarmTime(LocalDateTime highAlarmTime) {
 		this.highAlarmTime = highAlarmTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dhcpv4;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +28,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv4.client.ReqOption;
 import org.broadbandforum.tr181.device.dhcpv4.client.SentOption;
 
@@ -185,6 +187,16 @@ public class Client {
 	@CWMPParameter(access = "readWrite")
 	public Collection<ReqOption> reqOptions;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -207,6 +219,7 @@ public class Client {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -218,6 +231,7 @@ public class Client {
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -239,6 +253,8 @@ public class Client {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -250,6 +266,8 @@ public class Client {
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -271,6 +289,8 @@ public class Client {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -282,6 +302,8 @@ public class Client {
 	 */
 	public Client with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -311,6 +333,7 @@ public class Client {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -326,6 +349,7 @@ public class Client {
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -351,6 +375,7 @@ public class Client {
 	 */
 	public void  setDhcPStatus(String dhcPStatus) {
 		this.dhcPStatus = dhcPStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -364,6 +389,7 @@ public class Client {
 	 */
 	public Client withDhcPStatus(String dhcPStatus) {
 		this.dhcPStatus = dhcPStatus;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -385,6 +411,7 @@ public class Client {
 	 */
 	public void  setRenew(Boolean renew) {
 		this.renew = renew;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -396,6 +423,7 @@ public class Client {
 	 */
 	public Client withRenew(Boolean renew) {
 		this.renew = renew;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -417,6 +445,7 @@ public class Client {
 	 */
 	public void  setIpaddress(IPv4Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -428,6 +457,7 @@ public class Client {
 	 */
 	public Client withIpaddress(IPv4Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -453,6 +483,7 @@ public class Client {
 	 */
 	public void  setSubnetMask(IPv4Address subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -466,6 +497,7 @@ public class Client {
 	 */
 	public Client withSubnetMask(IPv4Address subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -491,6 +523,7 @@ public class Client {
 	 */
 	public void  setIprouters(IPv4Address iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -504,6 +537,7 @@ public class Client {
 	 */
 	public Client withIprouters(IPv4Address iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -529,6 +563,7 @@ public class Client {
 	 */
 	public void  setDnsServers(IPv4Address dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -542,6 +577,7 @@ public class Client {
 	 */
 	public Client withDnsServers(IPv4Address dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -563,6 +599,7 @@ public class Client {
 	 */
 	public void  setLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -574,6 +611,7 @@ public class Client {
 	 */
 	public Client withLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -595,6 +633,7 @@ public class Client {
 	 */
 	public void  setDhcPServer(IPv4Address dhcPServer) {
 		this.dhcPServer = dhcPServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -606,6 +645,7 @@ public class Client {
 	 */
 	public Client withDhcPServer(IPv4Address dhcPServer) {
 		this.dhcPServer = dhcPServer;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -631,6 +671,7 @@ public class Client {
 	 */
 	public void  setPassthroughEnable(Boolean passthroughEnable) {
 		this.passthroughEnable = passthroughEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -644,6 +685,7 @@ public class Client {
 	 */
 	public Client withPassthroughEnable(Boolean passthroughEnable) {
 		this.passthroughEnable = passthroughEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -665,6 +707,7 @@ public class Client {
 	 */
 	public void  setPassthroughDHCPPool(String passthroughDHCPPool) {
 		this.passthroughDHCPPool = passthroughDHCPPool;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -676,6 +719,7 @@ public class Client {
 	 */
 	public Client withPassthroughDHCPPool(String passthroughDHCPPool) {
 		this.passthroughDHCPPool = passthroughDHCPPool;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -685,10 +729,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<SentOption> getSentOptions() {
-		if (this.sentOptions == null){ this.sentOptions=new ArrayList<>();}
+		if (!(this.sentOptions instanceof InstanceTable)){ this.sentOptions=InstanceTable.of(this.sentOptions);}
 		return sentOptions;
 	}
 
+	/**
+	 * Read the each instance of this object represents a DHCP option that MUST, if enabled, be sent in DHCP client requests.  All  sent DHCP options MUST be listed.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SentOption> viewSentOptions() {
+		return sentOptions == null ? Collections.emptyList() : sentOptions;
+	}
+
 	/**
 	 * Set the each instance of this object represents a DHCP option that MUST, if enabled, be sent in DHCP client requests.  All  sent DHCP options MUST be listed.
 	 *
@@ -715,10 +769,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<ReqOption> getReqOptions() {
-		if (this.reqOptions == null){ this.reqOptions=new ArrayList<>();}
+		if (!(this.reqOptions instanceof InstanceTable)){ this.reqOptions=InstanceTable.of(this.reqOptions);}
 		return reqOptions;
 	}
 
+	/**
+	 * Read the each instance of this object represents a DHCP option that MUST, if enabled, be requested in DHCP client requests.  All requested DHCP options MUST be listed.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ReqOption> viewReqOptions() {
+		return reqOptions == null ? Collections.emptyList() : reqOptions;
+	}
+
 	/**
 	 * Set the each instance of this object represents a DHCP option that MUST, if enabled, be requested in DHCP client requests.  All requested DHCP options MUST be listed.
 	 *
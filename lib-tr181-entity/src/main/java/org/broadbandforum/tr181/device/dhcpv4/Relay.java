@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dhcpv4;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv4.relay.Forwarding;
 
 	/**
@@ -65,6 +67,11 @@ public class Relay {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Forwarding> forwardings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Relay() {
 	}
 
@@ -87,6 +94,7 @@ public class Relay {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -98,6 +106,7 @@ public class Relay {
 	 */
 	public Relay withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -123,6 +132,7 @@ public class Relay {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -136,6 +146,7 @@ public class Relay {
 	 */
 	public Relay withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -147,10 +158,22 @@ public class Relay {
 	 * @return the value
 	 */
 	public Collection<Forwarding> getForwardings() {
-		if (this.forwardings == null){ this.forwardings=new ArrayList<>();}
+		if (!(this.forwardings instanceof InstanceTable)){ this.forwardings=InstanceTable.of(this.forwardings);}
 		return forwardings;
 	}
 
+	/**
+	 * Read the dhcP Relay Agent Forwarding table.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Forwarding> viewForwardings() {
+		return forwardings == null ? Collections.emptyList() : forwardings;
+	}
+
 	/**
 	 * Set the dhcP Relay Agent Forwarding table.
 
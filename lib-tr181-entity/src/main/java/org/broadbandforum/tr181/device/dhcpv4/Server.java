@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dhcpv4;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv4.server.Pool;
 
 	/**
@@ -60,6 +62,11 @@ public class Server {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Pool> pools;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Server() {
 	}
 
@@ -82,6 +89,7 @@ public class Server {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -93,6 +101,7 @@ public class Server {
 	 */
 	public Server withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -108,10 +117,26 @@ public class Server {
 	 * @return the value
 	 */
 	public Collection<Pool> getPools() {
-		if (this.pools == null){ this.pools=new ArrayList<>();}
+		if (!(this.pools instanceof InstanceTable)){ this.pools=InstanceTable.of(this.pools);}
 		return pools;
 	}
 
+	/**
+	 * Read the dhcP conditional serving pool table. 
+
+        Each instance of this object defines a DHCP conditional serving pool. Client requests are associated with pools based on criteria such as source interface, supplied DHCP options, and MAC address. 
+
+        Overlapping pool ranges MUST be supported.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference, or {{param|MinAddress}}, {{param|MaxAddress}}, or {{param|SubnetMask}} is not a valid value, then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Pool> viewPools() {
+		return pools == null ? Collections.emptyList() : pools;
+	}
+
 	/**
 	 * Set the dhcP conditional serving pool table. 
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each instance of this object represents a DHCP option that MUST, if enabled, be requested in DHCP client requests.  All requested DHCP options MUST be listed.
@@ -88,6 +90,16 @@ public class ReqOption {
 	@XmlElement(name = "Value")
 	public byte[] value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ReqOption() {
 	}
 
@@ -110,6 +122,7 @@ public class ReqOption {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -121,6 +134,7 @@ public class ReqOption {
 	 */
 	public ReqOption withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -150,6 +164,7 @@ public class ReqOption {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -165,6 +180,7 @@ public class ReqOption {
 	 */
 	public ReqOption withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -186,6 +202,8 @@ public class ReqOption {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -197,6 +215,8 @@ public class ReqOption {
 	 */
 	public ReqOption withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -218,6 +238,8 @@ public class ReqOption {
 	 */
 	public void  setTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -229,6 +251,8 @@ public class ReqOption {
 	 */
 	public ReqOption withTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -258,6 +282,7 @@ public class ReqOption {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -273,6 +298,7 @@ public class ReqOption {
 	 */
 	public ReqOption withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
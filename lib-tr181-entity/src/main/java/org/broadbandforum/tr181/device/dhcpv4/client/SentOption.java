@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each instance of this object represents a DHCP option that MUST, if enabled, be sent in DHCP client requests.  All  sent DHCP options MUST be listed.
@@ -72,6 +74,16 @@ public class SentOption {
 	@CWMPParameter(access = "readWrite")
 	public byte[] value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SentOption() {
 	}
 
@@ -94,6 +106,7 @@ public class SentOption {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -105,6 +118,7 @@ public class SentOption {
 	 */
 	public SentOption withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -126,6 +140,8 @@ public class SentOption {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -137,6 +153,8 @@ public class SentOption {
 	 */
 	public SentOption withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -158,6 +176,8 @@ public class SentOption {
 	 */
 	public void  setTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +189,8 @@ public class SentOption {
 	 */
 	public SentOption withTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -190,6 +212,7 @@ public class SentOption {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -201,6 +224,7 @@ public class SentOption {
 	 */
 	public SentOption withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
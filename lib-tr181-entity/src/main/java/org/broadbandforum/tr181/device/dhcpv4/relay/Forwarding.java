@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -216,6 +218,16 @@ public class Forwarding {
 	@CWMPParameter(access = "readWrite")
 	public IPv4Address dhcPServerIPAddress;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Forwarding() {
 	}
 
@@ -238,6 +250,7 @@ public class Forwarding {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -249,6 +262,7 @@ public class Forwarding {
 	 */
 	public Forwarding withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -278,6 +292,7 @@ public class Forwarding {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -293,6 +308,7 @@ public class Forwarding {
 	 */
 	public Forwarding withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -314,6 +330,8 @@ public class Forwarding {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -325,6 +343,8 @@ public class Forwarding {
 	 */
 	public Forwarding withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -354,6 +374,7 @@ public class Forwarding {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -369,6 +390,7 @@ public class Forwarding {
 	 */
 	public Forwarding withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -390,6 +412,7 @@ public class Forwarding {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -401,6 +424,7 @@ public class Forwarding {
 	 */
 	public Forwarding with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -434,6 +458,7 @@ public class Forwarding {
 	 */
 	public void  setVendorClassID(String vendorClassID) {
 		this.vendorClassID = vendorClassID;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -451,6 +476,7 @@ public class Forwarding {
 	 */
 	public Forwarding withVendorClassID(String vendorClassID) {
 		this.vendorClassID = vendorClassID;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -476,6 +502,7 @@ public class Forwarding {
 	 */
 	public void  setVendorClassIDExclude(Boolean vendorClassIDExclude) {
 		this.vendorClassIDExclude = vendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -489,6 +516,7 @@ public class Forwarding {
 	 */
 	public Forwarding withVendorClassIDExclude(Boolean vendorClassIDExclude) {
 		this.vendorClassIDExclude = vendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -514,6 +542,7 @@ public class Forwarding {
 	 */
 	public void  setVendorClassIDMode(String vendorClassIDMode) {
 		this.vendorClassIDMode = vendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -527,6 +556,7 @@ public class Forwarding {
 	 */
 	public Forwarding withVendorClassIDMode(String vendorClassIDMode) {
 		this.vendorClassIDMode = vendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -556,6 +586,7 @@ public class Forwarding {
 	 */
 	public void  setClientID(byte[] clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -571,6 +602,7 @@ public class Forwarding {
 	 */
 	public Forwarding withClientID(byte[] clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -596,6 +628,7 @@ public class Forwarding {
 	 */
 	public void  setClientIDExclude(Boolean clientIDExclude) {
 		this.clientIDExclude = clientIDExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -609,6 +642,7 @@ public class Forwarding {
 	 */
 	public Forwarding withClientIDExclude(Boolean clientIDExclude) {
 		this.clientIDExclude = clientIDExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -638,6 +672,7 @@ public class Forwarding {
 	 */
 	public void  setUserClassID(byte[] userClassID) {
 		this.userClassID = userClassID;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -653,6 +688,7 @@ public class Forwarding {
 	 */
 	public Forwarding withUserClassID(byte[] userClassID) {
 		this.userClassID = userClassID;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -678,6 +714,7 @@ public class Forwarding {
 	 */
 	public void  setUserClassIDExclude(Boolean userClassIDExclude) {
 		this.userClassIDExclude = userClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -691,6 +728,7 @@ public class Forwarding {
 	 */
 	public Forwarding withUserClassIDExclude(Boolean userClassIDExclude) {
 		this.userClassIDExclude = userClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -720,6 +758,7 @@ public class Forwarding {
 	 */
 	public void  setChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -735,6 +774,7 @@ public class Forwarding {
 	 */
 	public Forwarding withChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -756,6 +796,7 @@ public class Forwarding {
 	 */
 	public void  setChaddrMask(MACAddress chaddrMask) {
 		this.chaddrMask = chaddrMask;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -767,6 +808,7 @@ public class Forwarding {
 	 */
 	public Forwarding withChaddrMask(MACAddress chaddrMask) {
 		this.chaddrMask = chaddrMask;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -792,6 +834,7 @@ public class Forwarding {
 	 */
 	public void  setChaddrExclude(Boolean chaddrExclude) {
 		this.chaddrExclude = chaddrExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -805,6 +848,7 @@ public class Forwarding {
 	 */
 	public Forwarding withChaddrExclude(Boolean chaddrExclude) {
 		this.chaddrExclude = chaddrExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -826,6 +870,7 @@ public class Forwarding {
 	 */
 	public void  setLocallyServed(Boolean locallyServed) {
 		this.locallyServed = locallyServed;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -837,6 +882,7 @@ public class Forwarding {
 	 */
 	public Forwarding withLocallyServed(Boolean locallyServed) {
 		this.locallyServed = locallyServed;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -858,6 +904,7 @@ public class Forwarding {
 	 */
 	public void  setDhcPServerIPAddress(IPv4Address dhcPServerIPAddress) {
 		this.dhcPServerIPAddress = dhcPServerIPAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -869,6 +916,7 @@ public class Forwarding {
 	 */
 	public Forwarding withDhcPServerIPAddress(IPv4Address dhcPServerIPAddress) {
 		this.dhcPServerIPAddress = dhcPServerIPAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
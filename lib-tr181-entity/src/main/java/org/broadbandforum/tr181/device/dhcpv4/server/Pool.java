@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dhcpv4.server;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +28,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.dhcpv4.server.pool.Client;
 import org.broadbandforum.tr181.device.dhcpv4.server.pool.Option;
@@ -314,6 +316,16 @@ public class Pool {
 	@XmlElement(name = "Client")
 	public Collection<Client> clients;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Pool() {
 	}
 
@@ -336,6 +348,7 @@ public class Pool {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -347,6 +360,7 @@ public class Pool {
 	 */
 	public Pool withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -376,6 +390,7 @@ public class Pool {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -391,6 +406,7 @@ public class Pool {
 	 */
 	public Pool withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -412,6 +428,8 @@ public class Pool {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -423,6 +441,8 @@ public class Pool {
 	 */
 	public Pool withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -452,6 +472,7 @@ public class Pool {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -467,6 +488,7 @@ public class Pool {
 	 */
 	public Pool withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -488,6 +510,7 @@ public class Pool {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -499,6 +522,7 @@ public class Pool {
 	 */
 	public Pool with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -532,6 +556,7 @@ public class Pool {
 	 */
 	public void  setVendorClassID(String vendorClassID) {
 		this.vendorClassID = vendorClassID;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -549,6 +574,7 @@ public class Pool {
 	 */
 	public Pool withVendorClassID(String vendorClassID) {
 		this.vendorClassID = vendorClassID;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -574,6 +600,7 @@ public class Pool {
 	 */
 	public void  setVendorClassIDExclude(Boolean vendorClassIDExclude) {
 		this.vendorClassIDExclude = vendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -587,6 +614,7 @@ public class Pool {
 	 */
 	public Pool withVendorClassIDExclude(Boolean vendorClassIDExclude) {
 		this.vendorClassIDExclude = vendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -612,6 +640,7 @@ public class Pool {
 	 */
 	public void  setVendorClassIDMode(String vendorClassIDMode) {
 		this.vendorClassIDMode = vendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -625,6 +654,7 @@ public class Pool {
 	 */
 	public Pool withVendorClassIDMode(String vendorClassIDMode) {
 		this.vendorClassIDMode = vendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -654,6 +684,7 @@ public class Pool {
 	 */
 	public void  setClientID(byte[] clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -669,6 +700,7 @@ public class Pool {
 	 */
 	public Pool withClientID(byte[] clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -694,6 +726,7 @@ public class Pool {
 	 */
 	public void  setClientIDExclude(Boolean clientIDExclude) {
 		this.clientIDExclude = clientIDExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -707,6 +740,7 @@ public class Pool {
 	 */
 	public Pool withClientIDExclude(Boolean clientIDExclude) {
 		this.clientIDExclude = clientIDExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -736,6 +770,7 @@ public class Pool {
 	 */
 	public void  setUserClassID(byte[] userClassID) {
 		this.userClassID = userClassID;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -751,6 +786,7 @@ public class Pool {
 	 */
 	public Pool withUserClassID(byte[] userClassID) {
 		this.userClassID = userClassID;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -776,6 +812,7 @@ public class Pool {
 	 */
 	public void  setUserClassIDExclude(Boolean userClassIDExclude) {
 		this.userClassIDExclude = userClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -789,6 +826,7 @@ public class Pool {
 	 */
 	public Pool withUserClassIDExclude(Boolean userClassIDExclude) {
 		this.userClassIDExclude = userClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -818,6 +856,7 @@ public class Pool {
 	 */
 	public void  setChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -833,6 +872,7 @@ public class Pool {
 	 */
 	public Pool withChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -854,6 +894,7 @@ public class Pool {
 	 */
 	public void  setChaddrMask(MACAddress chaddrMask) {
 		this.chaddrMask = chaddrMask;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -865,6 +906,7 @@ public class Pool {
 	 */
 	public Pool withChaddrMask(MACAddress chaddrMask) {
 		this.chaddrMask = chaddrMask;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -890,6 +932,7 @@ public class Pool {
 	 */
 	public void  setChaddrExclude(Boolean chaddrExclude) {
 		this.chaddrExclude = chaddrExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -903,6 +946,7 @@ public class Pool {
 	 */
 	public Pool withChaddrExclude(Boolean chaddrExclude) {
 		this.chaddrExclude = chaddrExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -928,6 +972,7 @@ public class Pool {
 	 */
 	public void  setMinAddress(IPv4Address minAddress) {
 		this.minAddress = minAddress;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -941,6 +986,7 @@ public class Pool {
 	 */
 	public Pool withMinAddress(IPv4Address minAddress) {
 		this.minAddress = minAddress;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -966,6 +1012,7 @@ public class Pool {
 	 */
 	public void  setMaxAddress(IPv4Address maxAddress) {
 		this.maxAddress = maxAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -979,6 +1026,7 @@ public class Pool {
 	 */
 	public Pool withMaxAddress(IPv4Address maxAddress) {
 		this.maxAddress = maxAddress;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1000,6 +1048,7 @@ public class Pool {
 	 */
 	public void  setReservedAddresses(IPv4Address reservedAddresses) {
 		this.reservedAddresses = reservedAddresses;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1011,6 +1060,7 @@ public class Pool {
 	 */
 	public Pool withReservedAddresses(IPv4Address reservedAddresses) {
 		this.reservedAddresses = reservedAddresses;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1036,6 +1086,7 @@ public class Pool {
 	 */
 	public void  setSubnetMask(IPv4Address subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1049,6 +1100,7 @@ public class Pool {
 	 */
 	public Pool withSubnetMask(IPv4Address subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1074,6 +1126,7 @@ public class Pool {
 	 */
 	public void  setDnsServers(IPv4Address dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1087,6 +1140,7 @@ public class Pool {
 	 */
 	public Pool withDnsServers(IPv4Address dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1108,6 +1162,7 @@ public class Pool {
 	 */
 	public void  setDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1119,6 +1174,7 @@ public class Pool {
 	 */
 	public Pool withDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1144,6 +1200,7 @@ public class Pool {
 	 */
 	public void  setIprouters(IPv4Address iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1157,6 +1214,7 @@ public class Pool {
 	 */
 	public Pool withIprouters(IPv4Address iprouters) {
 		this.iprouters = iprouters;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1178,6 +1236,7 @@ public class Pool {
 	 */
 	public void  setLeaseTime(Integer leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1189,6 +1248,7 @@ public class Pool {
 	 */
 	public Pool withLeaseTime(Integer leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1204,10 +1264,26 @@ public class Pool {
 	 * @return the value
 	 */
 	public Collection<StaticAddress> getStaticAddresss() {
-		if (this.staticAddresss == null){ this.staticAddresss=new ArrayList<>();}
+		if (!(this.staticAddresss instanceof InstanceTable)){ this.staticAddresss=InstanceTable.of(this.staticAddresss);}
 		return staticAddresss;
 	}
 
+	/**
+	 * Read the dhcP static address table.
+
+        Entries in this table correspond to what {{bibref|RFC2131}} calls "manual allocation", where a client's IP address is assigned by the network administrator, and DHCP is used simply to convey the assigned address to the client.
+
+        Each instance of this object specifies a hardware address (MAC address) and an IP address within the pool.  When serving from this pool, this IP address MUST, if available, be assigned to the DHCP client with this hardware address, and MUST NOT be assigned to any other client.
+
+        Note that it is possible that an IP address in this table is present in one or more of the other conditional serving pools, in which case it is possible that such an address will be assigned to a different client.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<StaticAddress> viewStaticAddresss() {
+		return staticAddresss == null ? Collections.emptyList() : staticAddresss;
+	}
+
 	/**
 	 * Set the dhcP static address table.
 
@@ -1246,10 +1322,20 @@ public class Pool {
 	 * @return the value
 	 */
 	public Collection<Option> getOptions() {
-		if (this.options == null){ this.options=new ArrayList<>();}
+		if (!(this.options instanceof InstanceTable)){ this.options=InstanceTable.of(this.options);}
 		return options;
 	}
 
+	/**
+	 * Read the this object specifies the DHCP options that MUST, if enabled, be returned to clients whose DHCP requests are  associated with this pool.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Option> viewOptions() {
+		return options == null ? Collections.emptyList() : options;
+	}
+
 	/**
 	 * Set the this object specifies the DHCP options that MUST, if enabled, be returned to clients whose DHCP requests are  associated with this pool.
 	 *
@@ -1278,10 +1364,22 @@ public class Pool {
 	 * @return the value
 	 */
 	public Collection<Client> getClients() {
-		if (this.clients == null){ this.clients=new ArrayList<>();}
+		if (!(this.clients instanceof InstanceTable)){ this.clients=InstanceTable.of(this.clients);}
 		return clients;
 	}
 
+	/**
+	 * Read the dhcPv4 client table.
+
+        This table lists details of DHCPv4 clients that matched the filter criteria of this {{object|#}} entry.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Client> viewClients() {
+		return clients == null ? Collections.emptyList() : clients;
+	}
+
 	/**
 	 * Set the dhcPv4 client table.
 
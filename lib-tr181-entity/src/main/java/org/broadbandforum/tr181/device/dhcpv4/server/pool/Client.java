@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dhcpv4.server.pool;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.dhcpv4.server.pool.client.IPv4Address;
 import org.broadbandforum.tr181.device.dhcpv4.server.pool.client.Option;
@@ -84,6 +86,16 @@ public class Client {
 	@XmlElement(name = "Option")
 	public Collection<Option> options;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -110,6 +122,8 @@ public class Client {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -123,6 +137,8 @@ public class Client {
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -144,6 +160,8 @@ public class Client {
 	 */
 	public void  setChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -155,6 +173,8 @@ public class Client {
 	 */
 	public Client withChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -180,6 +200,7 @@ public class Client {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -193,6 +214,7 @@ public class Client {
 	 */
 	public Client withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -202,10 +224,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<IPv4Address> getIpv4Addresss() {
-		if (this.ipv4Addresss == null){ this.ipv4Addresss=new ArrayList<>();}
+		if (!(this.ipv4Addresss instanceof InstanceTable)){ this.ipv4Addresss=InstanceTable.of(this.ipv4Addresss);}
 		return ipv4Addresss;
 	}
 
+	/**
+	 * Read the ipv4 addresses assigned to this client.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv4Address> viewIpv4Addresss() {
+		return ipv4Addresss == null ? Collections.emptyList() : ipv4Addresss;
+	}
+
 	/**
 	 * Set the ipv4 addresses assigned to this client.
 	 *
@@ -232,10 +264,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<Option> getOptions() {
-		if (this.options == null){ this.options=new ArrayList<>();}
+		if (!(this.options instanceof InstanceTable)){ this.options=InstanceTable.of(this.options);}
 		return options;
 	}
 
+	/**
+	 * Read the dhcPv4 options supplied by this client, e.g. ''VendorClassID'' (Option 60), ''ClientID'' (option 61) or ''UserClassID'' (Option 77).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Option> viewOptions() {
+		return options == null ? Collections.emptyList() : options;
+	}
+
 	/**
 	 * Set the dhcPv4 options supplied by this client, e.g. ''VendorClassID'' (Option 60), ''ClientID'' (option 61) or ''UserClassID'' (Option 77).
 	 *
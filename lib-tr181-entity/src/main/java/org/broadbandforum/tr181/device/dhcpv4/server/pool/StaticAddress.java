@@ -24,7 +24,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -80,6 +82,16 @@ public class StaticAddress {
 	@CWMPParameter(access = "readWrite")
 	public IPv4Address yiaddr;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public StaticAddress() {
 	}
 
@@ -106,6 +118,7 @@ public class StaticAddress {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +132,7 @@ public class StaticAddress {
 	 */
 	public StaticAddress withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +154,8 @@ public class StaticAddress {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -151,6 +167,8 @@ public class StaticAddress {
 	 */
 	public StaticAddress withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -172,6 +190,8 @@ public class StaticAddress {
 	 */
 	public void  setChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -183,6 +203,8 @@ public class StaticAddress {
 	 */
 	public StaticAddress withChaddr(MACAddress chaddr) {
 		this.chaddr = chaddr;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -204,6 +226,7 @@ public class StaticAddress {
 	 */
 	public void  setYiaddr(IPv4Address yiaddr) {
 		this.yiaddr = yiaddr;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -215,6 +238,7 @@ public class StaticAddress {
 	 */
 	public StaticAddress withYiaddr(IPv4Address yiaddr) {
 		this.yiaddr = yiaddr;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
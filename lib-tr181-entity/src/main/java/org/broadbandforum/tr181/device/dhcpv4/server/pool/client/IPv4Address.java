@@ -21,8 +21,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * IPv4 addresses assigned to this client.
@@ -48,8 +52,19 @@ public class IPv4Address {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "LeaseTimeRemaining")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime leaseTimeRemaining;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPv4Address() {
 	}
 
@@ -72,6 +87,8 @@ public class IPv4Address {
 	 */
 	public void  setIpaddress(org.broadbandforum.common.IPv4Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -83,6 +100,8 @@ public class IPv4Address {
 	 */
 	public IPv4Address withIpaddress(org.broadbandforum.common.IPv4Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -104,6 +123,7 @@ public class IPv4Address {
 	 */
 	public void  setLeaseTimeRemaining(LocalDateTime leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -115,6 +135,7 @@ public class IPv4Address {
 	 */
 	public IPv4Address withLeaseTimeRemaining(LocalDateTime leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
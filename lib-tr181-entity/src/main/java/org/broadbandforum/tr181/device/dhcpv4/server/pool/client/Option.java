@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * DHCPv4 options supplied by this client, e.g. ''VendorClassID'' (Option 60), ''ClientID'' (option 61) or ''UserClassID'' (Option 77).
@@ -50,6 +51,11 @@ public class Option {
 	@XmlElement(name = "Value")
 	public byte[] value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Option() {
 	}
 
@@ -72,6 +78,7 @@ public class Option {
 	 */
 	public void  setTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -83,6 +90,7 @@ public class Option {
 	 */
 	public Option withTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -104,6 +112,7 @@ public class Option {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -115,6 +124,7 @@ public class Option {
 	 */
 	public Option withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
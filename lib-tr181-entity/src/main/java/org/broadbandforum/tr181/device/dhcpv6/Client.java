@@ -15,14 +15,16 @@
  */
 package org.broadbandforum.tr181.device.dhcpv6;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.*;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv6.client.ReceivedOption;
 import org.broadbandforum.tr181.device.dhcpv6.client.SentOption;
 import org.broadbandforum.tr181.device.dhcpv6.client.Server;
@@ -250,6 +252,16 @@ public class Client {
   @XmlElement(name = "ReceivedOption")
   public Collection<ReceivedOption> receivedOptions;
 
+  /**
+   * The changed parameters, null unless the object is tracked.
+   */
+  transient DirtyBits dirty;
+
+  /**
+   * The table indexing this row by its unique keys, null unless indexed.
+   */
+  transient InstanceTable<?> table;
+
   public Client() {
   }
 
@@ -272,6 +284,9 @@ public class Client {
    */
   public void setEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
   }
 
   /**
@@ -283,6 +298,9 @@ public class Client {
    */
   public Client withEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
     return this;
   }
 
@@ -304,6 +322,12 @@ public class Client {
    */
   public void setAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -315,6 +339,12 @@ public class Client {
    */
   public Client withAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -340,6 +370,12 @@ public class Client {
    */
   public void set_interface(String _interface) {
     this._interface = _interface;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -353,6 +389,12 @@ public class Client {
    */
   public Client with_interface(String _interface) {
     this._interface = _interface;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -386,6 +428,9 @@ public class Client {
    */
   public void setStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
   }
 
   /**
@@ -403,6 +448,9 @@ public class Client {
    */
   public Client withStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
     return this;
   }
 
@@ -426,6 +474,9 @@ public class Client {
    */
   public void setDuiD(byte[] duiD) {
     this.duiD = duiD;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
   }
 
   /**
@@ -438,6 +489,9 @@ public class Client {
    */
   public Client withDuiD(byte[] duiD) {
     this.duiD = duiD;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
     return this;
   }
 
@@ -463,6 +517,9 @@ public class Client {
    */
   public void setRequestAddresses(Boolean requestAddresses) {
     this.requestAddresses = requestAddresses;
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
   }
 
   /**
@@ -476,6 +533,9 @@ public class Client {
    */
   public Client withRequestAddresses(Boolean requestAddresses) {
     this.requestAddresses = requestAddresses;
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
     return this;
   }
 
@@ -507,6 +567,9 @@ public class Client {
    */
   public void setRequestPrefixes(Boolean requestPrefixes) {
     this.requestPrefixes = requestPrefixes;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
   }
 
   /**
@@ -523,6 +586,9 @@ public class Client {
    */
   public Client withRequestPrefixes(Boolean requestPrefixes) {
     this.requestPrefixes = requestPrefixes;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
     return this;
   }
 
@@ -548,6 +614,9 @@ public class Client {
    */
   public void setRapidCommit(Boolean rapidCommit) {
     this.rapidCommit = rapidCommit;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
   }
 
   /**
@@ -561,6 +630,9 @@ public class Client {
    */
   public Client withRapidCommit(Boolean rapidCommit) {
     this.rapidCommit = rapidCommit;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
     return this;
   }
 
@@ -588,6 +660,9 @@ public class Client {
    */
   public void setRenew(Boolean renew) {
     this.renew = renew;
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
   }
 
   /**
@@ -602,6 +677,9 @@ public class Client {
    */
   public Client withRenew(Boolean renew) {
     this.renew = renew;
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
     return this;
   }
 
@@ -631,6 +709,9 @@ public class Client {
    */
   public void setSuggestedT1(Integer suggestedT1) {
     this.suggestedT1 = suggestedT1;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
   }
 
   /**
@@ -646,6 +727,9 @@ public class Client {
    */
   public Client withSuggestedT1(Integer suggestedT1) {
     this.suggestedT1 = suggestedT1;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
     return this;
   }
 
@@ -675,6 +759,9 @@ public class Client {
    */
   public void setSuggestedT2(Integer suggestedT2) {
     this.suggestedT2 = suggestedT2;
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
   }
 
   /**
@@ -690,6 +777,9 @@ public class Client {
    */
   public Client withSuggestedT2(Integer suggestedT2) {
     this.suggestedT2 = suggestedT2;
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
     return this;
   }
 
@@ -717,6 +807,9 @@ public class Client {
    */
   public void setSupportedOptions(Long supportedOptions) {
     this.supportedOptions = supportedOptions;
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
   }
 
   /**
@@ -731,6 +824,9 @@ public class Client {
    */
   public Client withSupportedOptions(Long supportedOptions) {
     this.supportedOptions = supportedOptions;
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
     return this;
   }
 
@@ -790,6 +886,9 @@ public class Client {
    */
   public void setRequestedOptions(Long requestedOptions) {
     this.requestedOptions = requestedOptions;
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
   }
 
   /**
@@ -820,6 +919,9 @@ public class Client {
    */
   public Client withRequestedOptions(Long requestedOptions) {
     this.requestedOptions = requestedOptions;
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
     return this;
   }
 
@@ -832,12 +934,25 @@ public class Client {
    * @return the value
    */
   public Collection<Server> getServers() {
-    if (this.servers == null) {
-      this.servers = new ArrayList<>();
+    if (!(this.servers instanceof InstanceTable)) {
+      this.servers = InstanceTable.of(this.servers);
     }
     return servers;
   }
 
+  /**
+   * Read the this is a transitory table that lists the discovered DHCPv6 servers
+   * (it does ''not'' model a local DHCP server). Table entries are
+   * automatically created to correspond with these servers. However, it is a
+   * local matter to the CPE when to delete old table entries.
+   *
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<Server> viewServers() {
+    return servers == null ? Collections.emptyList() : servers;
+  }
+
   /**
    * Set the this is a transitory table that lists the discovered DHCPv6 servers
    * (it does ''not'' model a local DHCP server). Table entries are
@@ -879,12 +994,31 @@ public class Client {
    * @return the value
    */
   public Collection<SentOption> getSentOptions() {
-    if (this.sentOptions == null) {
-      this.sentOptions = new ArrayList<>();
+    if (!(this.sentOptions instanceof InstanceTable)) {
+      this.sentOptions = InstanceTable.of(this.sentOptions);
     }
     return sentOptions;
   }
 
+  /**
+   * Read the top-level options and option values (including any encapsulated
+   * options) that the client will send to the server.
+   * <p>
+   * This table is intended only for options that are not part of the basic
+   * operation of the protocol, and whose values are simple, do not often change
+   * and are not modeled elsewhere. For example, it is appropriate for
+   * OPTION_USER_CLASS (whose value is a list of user classes) but is not
+   * appropriate for OPTION_RECONF_MSG (which is part of the protocol),
+   * OPTION_IA_NA (which is modeled via {{param|#.RequestAddresses}}) or
+   * OPTION_RAPID_COMMIT (which is modeled via {{param|#.RapidCommit}}).
+   *
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<SentOption> viewSentOptions() {
+    return sentOptions == null ? Collections.emptyList() : sentOptions;
+  }
+
   /**
    * Set the top-level options and option values (including any encapsulated
    * options) that the client will send to the server.
@@ -938,12 +1072,31 @@ public class Client {
    * @return the value
    */
   public Collection<ReceivedOption> getReceivedOptions() {
-    if (this.receivedOptions == null) {
-      this.receivedOptions = new ArrayList<>();
+    if (!(this.receivedOptions instanceof InstanceTable)) {
+      this.receivedOptions = InstanceTable.of(this.receivedOptions);
     }
     return receivedOptions;
   }
 
+  /**
+   * Read the this is a transitory table that lists all the options received from
+   * all servers. Table entries are automatically created to correspond with
+   * received options. However, it is a local matter to the CPE when to delete
+   * old table entries.
+   * <p>
+   * If the same option is received multiple times, whether from one or more
+   * servers, it is up to the CPE to decide which entries to include (i.e.
+   * whether the same option will be present multiple times). In order to allow
+   * for the same option to be present multiple times within the table, this
+   * table has no unique key defined.
+   *
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<ReceivedOption> viewReceivedOptions() {
+    return receivedOptions == null ? Collections.emptyList() : receivedOptions;
+  }
+
   /**
    * Set the this is a transitory table that lists all the options received from
    * all servers. Table entries are automatically created to correspond with
@@ -15,11 +15,13 @@
  */
 package org.broadbandforum.tr181.device.dhcpv6;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.*;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv6.server.Pool;
 
 /**
@@ -60,6 +62,11 @@ public class Server {
   @CWMPParameter(access = "readWrite")
   public Collection<Pool> pools;
 
+  /**
+   * The changed parameters, null unless the object is tracked.
+   */
+  transient DirtyBits dirty;
+
   public Server() {
   }
 
@@ -82,6 +89,9 @@ public class Server {
    */
   public void setEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
   }
 
   /**
@@ -93,6 +103,9 @@ public class Server {
    */
   public Server withEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
     return this;
   }
 
@@ -113,12 +126,33 @@ public class Server {
    * @return the value
    */
   public Collection<Pool> getPools() {
-    if (this.pools == null) {
-      this.pools = new ArrayList<>();
+    if (!(this.pools instanceof InstanceTable)) {
+      this.pools = InstanceTable.of(this.pools);
     }
     return pools;
   }
 
+  /**
+   * Read the dhcPv6 server pool table.
+   * <p>
+   * Each instance of this object defines a DHCPv6 server pool. Client requests
+   * are associated with pools based on criteria such as source interface,
+   * supplied DHCPv6 options, and source address.
+   * <p>
+   * Overlapping pool ranges MUST be supported.
+   * <p>
+   * For enabled table entries, if {{param|Interface}} is not a valid reference
+   * to an IPv6-capable interface (that is attached to the IPv6 stack) then the
+   * table entry is inoperable and the CPE MUST set {{param|Status}} to
+   * {{enum|Error_Misconfigured|Status}}.
+   *
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<Pool> viewPools() {
+    return pools == null ? Collections.emptyList() : pools;
+  }
+
   /**
    * Set the dhcPv6 server pool table.
    * <p>
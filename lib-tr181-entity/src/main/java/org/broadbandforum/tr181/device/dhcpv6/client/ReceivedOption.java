@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This is a transitory table that lists all the options received from all servers. Table entries are automatically created to correspond with received options. However, it is a local matter to the CPE when to delete old table entries.
@@ -59,6 +60,11 @@ public class ReceivedOption {
 	@XmlElement(name = "Server")
 	public String server;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ReceivedOption() {
 	}
 
@@ -81,6 +87,7 @@ public class ReceivedOption {
 	 */
 	public void  setTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ public class ReceivedOption {
 	 */
 	public ReceivedOption withTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,6 +121,7 @@ public class ReceivedOption {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -124,6 +133,7 @@ public class ReceivedOption {
 	 */
 	public ReceivedOption withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -145,6 +155,7 @@ public class ReceivedOption {
 	 */
 	public void  setServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -156,6 +167,7 @@ public class ReceivedOption {
 	 */
 	public ReceivedOption withServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
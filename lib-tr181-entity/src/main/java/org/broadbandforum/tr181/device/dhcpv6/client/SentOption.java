@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The top-level options and option values (including any encapsulated options) that the client will send to the server.
@@ -76,6 +78,16 @@ public class SentOption {
 	@CWMPParameter(access = "readWrite")
 	public byte[] value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SentOption() {
 	}
 
@@ -98,6 +110,7 @@ public class SentOption {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -109,6 +122,7 @@ public class SentOption {
 	 */
 	public SentOption withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -130,6 +144,8 @@ public class SentOption {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -141,6 +157,8 @@ public class SentOption {
 	 */
 	public SentOption withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -162,6 +180,8 @@ public class SentOption {
 	 */
 	public void  setTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -173,6 +193,8 @@ public class SentOption {
 	 */
 	public SentOption withTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -198,6 +220,7 @@ public class SentOption {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -211,6 +234,7 @@ public class SentOption {
 	 */
 	public SentOption withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -21,9 +21,13 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Address;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This is a transitory table that lists the discovered DHCPv6 servers (it does ''not'' model a local DHCP server). Table entries are automatically created to correspond with these servers. However, it is a local matter to the CPE when to delete old table entries.
@@ -56,8 +60,19 @@ public class Server {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "InformationRefreshTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime informationRefreshTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Server() {
 	}
 
@@ -80,6 +95,8 @@ public class Server {
 	 */
 	public void  setSourceAddress(IPv6Address sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -91,6 +108,8 @@ public class Server {
 	 */
 	public Server withSourceAddress(IPv6Address sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -112,6 +131,7 @@ public class Server {
 	 */
 	public void  setDuiD(byte[] duiD) {
 		this.duiD = duiD;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -123,6 +143,7 @@ public class Server {
 	 */
 	public Server withDuiD(byte[] duiD) {
 		this.duiD = duiD;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -144,6 +165,7 @@ public class Server {
 	 */
 	public void  setInformationRefreshTime(LocalDateTime informationRefreshTime) {
 		this.informationRefreshTime = informationRefreshTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -155,6 +177,7 @@ public class Server {
 	 */
 	public Server withInformationRefreshTime(LocalDateTime informationRefreshTime) {
 		this.informationRefreshTime = informationRefreshTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -17,13 +17,16 @@ package org.broadbandforum.tr181.device.dhcpv6.server;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.*;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Address;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv6.server.pool.Client;
 import org.broadbandforum.tr181.device.dhcpv6.server.pool.Option;
 
@@ -378,6 +381,16 @@ public class Pool {
   @CWMPParameter(access = "readWrite")
   public Collection<Option> options;
 
+  /**
+   * The changed parameters, null unless the object is tracked.
+   */
+  transient DirtyBits dirty;
+
+  /**
+   * The table indexing this row by its unique keys, null unless indexed.
+   */
+  transient InstanceTable<?> table;
+
   public Pool() {
   }
 
@@ -400,6 +413,9 @@ public class Pool {
    */
   public void setEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
   }
 
   /**
@@ -411,6 +427,9 @@ public class Pool {
    */
   public Pool withEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
     return this;
   }
 
@@ -444,6 +463,9 @@ public class Pool {
    */
   public void setStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
   }
 
   /**
@@ -461,6 +483,9 @@ public class Pool {
    */
   public Pool withStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
     return this;
   }
 
@@ -482,6 +507,12 @@ public class Pool {
    */
   public void setAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -493,6 +524,12 @@ public class Pool {
    */
   public Pool withAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -540,6 +577,12 @@ public class Pool {
    */
   public void setOrder(Long order) {
     this.order = order;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -564,6 +607,12 @@ public class Pool {
    */
   public Pool withOrder(Long order) {
     this.order = order;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -587,6 +636,9 @@ public class Pool {
    */
   public void set_interface(String _interface) {
     this._interface = _interface;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
   }
 
   /**
@@ -599,6 +651,9 @@ public class Pool {
    */
   public Pool with_interface(String _interface) {
     this._interface = _interface;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
     return this;
   }
 
@@ -638,6 +693,9 @@ public class Pool {
    */
   public void setDuiD(byte[] duiD) {
     this.duiD = duiD;
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
   }
 
   /**
@@ -658,6 +716,9 @@ public class Pool {
    */
   public Pool withDuiD(byte[] duiD) {
     this.duiD = duiD;
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
     return this;
   }
 
@@ -687,6 +748,9 @@ public class Pool {
    */
   public void setDuiDExclude(Boolean duiDExclude) {
     this.duiDExclude = duiDExclude;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
   }
 
   /**
@@ -702,6 +766,9 @@ public class Pool {
    */
   public Pool withDuiDExclude(Boolean duiDExclude) {
     this.duiDExclude = duiDExclude;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
     return this;
   }
 
@@ -735,6 +802,9 @@ public class Pool {
    */
   public void setVendorClassID(byte[] vendorClassID) {
     this.vendorClassID = vendorClassID;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
   }
 
   /**
@@ -752,6 +822,9 @@ public class Pool {
    */
   public Pool withVendorClassID(byte[] vendorClassID) {
     this.vendorClassID = vendorClassID;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
     return this;
   }
 
@@ -781,6 +854,9 @@ public class Pool {
    */
   public void setVendorClassIDExclude(Boolean vendorClassIDExclude) {
     this.vendorClassIDExclude = vendorClassIDExclude;
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
   }
 
   /**
@@ -796,6 +872,9 @@ public class Pool {
    */
   public Pool withVendorClassIDExclude(Boolean vendorClassIDExclude) {
     this.vendorClassIDExclude = vendorClassIDExclude;
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
     return this;
   }
 
@@ -827,6 +906,9 @@ public class Pool {
    */
   public void setUserClassID(byte[] userClassID) {
     this.userClassID = userClassID;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
   }
 
   /**
@@ -843,6 +925,9 @@ public class Pool {
    */
   public Pool withUserClassID(byte[] userClassID) {
     this.userClassID = userClassID;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
     return this;
   }
 
@@ -872,6 +957,9 @@ public class Pool {
    */
   public void setUserClassIDExclude(Boolean userClassIDExclude) {
     this.userClassIDExclude = userClassIDExclude;
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
   }
 
   /**
@@ -887,6 +975,9 @@ public class Pool {
    */
   public Pool withUserClassIDExclude(Boolean userClassIDExclude) {
     this.userClassIDExclude = userClassIDExclude;
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
     return this;
   }
 
@@ -920,6 +1011,9 @@ public class Pool {
    */
   public void setSourceAddress(IPv6Address sourceAddress) {
     this.sourceAddress = sourceAddress;
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
   }
 
   /**
@@ -937,6 +1031,9 @@ public class Pool {
    */
   public Pool withSourceAddress(IPv6Address sourceAddress) {
     this.sourceAddress = sourceAddress;
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
     return this;
   }
 
@@ -964,6 +1061,9 @@ public class Pool {
    */
   public void setSourceAddressMask(IPv6Address sourceAddressMask) {
     this.sourceAddressMask = sourceAddressMask;
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
   }
 
   /**
@@ -978,6 +1078,9 @@ public class Pool {
    */
   public Pool withSourceAddressMask(IPv6Address sourceAddressMask) {
     this.sourceAddressMask = sourceAddressMask;
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
     return this;
   }
 
@@ -1007,6 +1110,9 @@ public class Pool {
    */
   public void setSourceAddressExclude(Boolean sourceAddressExclude) {
     this.sourceAddressExclude = sourceAddressExclude;
+    if (this.dirty != null) {
+      this.dirty.set(13);
+    }
   }
 
   /**
@@ -1022,6 +1128,9 @@ public class Pool {
    */
   public Pool withSourceAddressExclude(Boolean sourceAddressExclude) {
     this.sourceAddressExclude = sourceAddressExclude;
+    if (this.dirty != null) {
+      this.dirty.set(13);
+    }
     return this;
   }
 
@@ -1043,6 +1152,9 @@ public class Pool {
    */
   public void setIanAEnable(Boolean ianAEnable) {
     this.ianAEnable = ianAEnable;
+    if (this.dirty != null) {
+      this.dirty.set(14);
+    }
   }
 
   /**
@@ -1054,6 +1166,9 @@ public class Pool {
    */
   public Pool withIanAEnable(Boolean ianAEnable) {
     this.ianAEnable = ianAEnable;
+    if (this.dirty != null) {
+      this.dirty.set(14);
+    }
     return this;
   }
 
@@ -1083,6 +1198,30 @@ public class Pool {
     return ianAManualPrefixes;
   }
 
+  /**
+   * Read the {{list}} {{reference}}
+   * <p>
+   * Manually-configured prefixes from which IA_NA addresses will be assigned.
+   * Each referenced prefix MUST have a
+   * {{param|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}} of
+   * {{enum|Static|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}} or
+   * {{enum|Child|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}}. All clients
+   * that request IA_NA and match filter criteria on this {{param|Interface}}
+   * MUST be offered IA_NA addresses from all of the ''Valid''
+   * ({{param|.IP.Interface.{i}.IPv6Prefix.{i}.ValidLifetime}} is infinite or in
+   * the future) /64 prefixes in this list.
+   * <p>
+   * Prefixes MUST be associated with the interface instance referenced by
+   * {{param|Interface}}.
+   *
+   * @since 2.2
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewIanAManualPrefixes() {
+    return ianAManualPrefixes == null ? Collections.emptyList() : ianAManualPrefixes;
+  }
+
   /**
    * Set the {{list}} {{reference}}
    * <p>
@@ -1104,6 +1243,9 @@ public class Pool {
    */
   public void setIanAManualPrefixes(Collection<String> ianAManualPrefixes) {
     this.ianAManualPrefixes = ianAManualPrefixes;
+    if (this.dirty != null) {
+      this.dirty.set(15);
+    }
   }
 
   /**
@@ -1128,6 +1270,9 @@ public class Pool {
    */
   public Pool withIanAManualPrefixes(String string) {
     getIanAManualPrefixes().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(15);
+    }
     return this;
   }
 
@@ -1154,6 +1299,27 @@ public class Pool {
     return ianAPrefixes;
   }
 
+  /**
+   * Read the {{list}} {{reference}}
+   * <p>
+   * All prefixes from which IA_NA addresses will be assigned. This list can
+   * include:
+   * <p>
+   * Prefixes from {{param|IANAManualPrefixes}} that are used for IA_NA offers.
+   * <p>
+   * Prefixes with {{param|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} =
+   * {{enum|Child|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} or
+   * {{enum|AutoConfigured|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} associated
+   * with the interface instance referenced by {{param|Interface}}.
+   *
+   * @since 2.2
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewIanAPrefixes() {
+    return ianAPrefixes == null ? Collections.emptyList() : ianAPrefixes;
+  }
+
   /**
    * Set the {{list}} {{reference}}
    * <p>
@@ -1172,6 +1338,9 @@ public class Pool {
    */
   public void setIanAPrefixes(Collection<String> ianAPrefixes) {
     this.ianAPrefixes = ianAPrefixes;
+    if (this.dirty != null) {
+      this.dirty.set(16);
+    }
   }
 
   /**
@@ -1193,6 +1362,9 @@ public class Pool {
    */
   public Pool withIanAPrefixes(String string) {
     getIanAPrefixes().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(16);
+    }
     return this;
   }
 
@@ -1214,6 +1386,9 @@ public class Pool {
    */
   public void setIapDEnable(Boolean iapDEnable) {
     this.iapDEnable = iapDEnable;
+    if (this.dirty != null) {
+      this.dirty.set(17);
+    }
   }
 
   /**
@@ -1225,6 +1400,9 @@ public class Pool {
    */
   public Pool withIapDEnable(Boolean iapDEnable) {
     this.iapDEnable = iapDEnable;
+    if (this.dirty != null) {
+      this.dirty.set(17);
+    }
     return this;
   }
 
@@ -1260,6 +1438,36 @@ public class Pool {
     return iapDManualPrefixes;
   }
 
+  /**
+   * Read the {{list}} {{reference}}
+   * <p>
+   * Manually-configured prefixes from which IA_PD prefixes will be derived.
+   * This list can include:
+   * <p>
+   * Prefixes with {{param|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} =
+   * {{enum|Static|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} or
+   * {{enum|PrefixDelegation|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}}
+   * associated with upstream interfaces (i.e. interfaces for which the physical
+   * layer interface object has ''Upstream'' = {{true}}).
+   * <p>
+   * Prefixes with {{param|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}} =
+   * {{enum|Static|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}} or
+   * {{enum|Child|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}} associated with
+   * with the interface instance referenced by {{param|Interface}}.
+   * <p>
+   * All clients that request IA_PD and match filter criteria on this
+   * {{param|Interface}} MUST be offered IA_PD prefixes derived from all of the
+   * ''Valid'' ({{param|.IP.Interface.{i}.IPv6Prefix.{i}.ValidLifetime}} is
+   * infinite or in the future) prefixes in this list.
+   *
+   * @since 2.2
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewIapDManualPrefixes() {
+    return iapDManualPrefixes == null ? Collections.emptyList() : iapDManualPrefixes;
+  }
+
   /**
    * Set the {{list}} {{reference}}
    * <p>
@@ -1287,6 +1495,9 @@ public class Pool {
    */
   public void setIapDManualPrefixes(Collection<String> iapDManualPrefixes) {
     this.iapDManualPrefixes = iapDManualPrefixes;
+    if (this.dirty != null) {
+      this.dirty.set(18);
+    }
   }
 
   /**
@@ -1317,6 +1528,9 @@ public class Pool {
    */
   public Pool withIapDManualPrefixes(String string) {
     getIapDManualPrefixes().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(18);
+    }
     return this;
   }
 
@@ -1349,6 +1563,33 @@ public class Pool {
     return iapDPrefixes;
   }
 
+  /**
+   * Read the {{list}} {{reference}}
+   * <p>
+   * All prefixes for which IA_PD prefixes will be assigned. This list can
+   * include:
+   * <p>
+   * Prefixes from {{param|IAPDManualPrefixes}} that are used for IA_PD offers.
+   * <p>
+   * Prefixes with {{param|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} =
+   * {{enum|PrefixDelegation|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} or
+   * {{enum|AutoConfigured|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} associated
+   * with upstream interfaces (i.e. interfaces for which the physical layer
+   * interface object has ''Upstream'' = {{true}}).
+   * <p>
+   * Prefixes with {{param|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} =
+   * {{enum|Child|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} or
+   * {{enum|AutoConfigured|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} associated
+   * with the interface instance referenced by {{param|Interface}}.
+   *
+   * @since 2.2
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewIapDPrefixes() {
+    return iapDPrefixes == null ? Collections.emptyList() : iapDPrefixes;
+  }
+
   /**
    * Set the {{list}} {{reference}}
    * <p>
@@ -1373,6 +1614,9 @@ public class Pool {
    */
   public void setIapDPrefixes(Collection<String> iapDPrefixes) {
     this.iapDPrefixes = iapDPrefixes;
+    if (this.dirty != null) {
+      this.dirty.set(19);
+    }
   }
 
   /**
@@ -1400,6 +1644,9 @@ public class Pool {
    */
   public Pool withIapDPrefixes(String string) {
     getIapDPrefixes().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(19);
+    }
     return this;
   }
 
@@ -1433,6 +1680,9 @@ public class Pool {
    */
   public void setIapDAddLength(Long iapDAddLength) {
     this.iapDAddLength = iapDAddLength;
+    if (this.dirty != null) {
+      this.dirty.set(20);
+    }
   }
 
   /**
@@ -1450,6 +1700,9 @@ public class Pool {
    */
   public Pool withIapDAddLength(Long iapDAddLength) {
     this.iapDAddLength = iapDAddLength;
+    if (this.dirty != null) {
+      this.dirty.set(20);
+    }
     return this;
   }
 
@@ -1462,12 +1715,25 @@ public class Pool {
    * @return the value
    */
   public Collection<Client> getClients() {
-    if (this.clients == null) {
-      this.clients = new ArrayList<>();
+    if (!(this.clients instanceof InstanceTable)) {
+      this.clients = InstanceTable.of(this.clients);
     }
     return clients;
   }
 
+  /**
+   * Read the dhcPv6 client table.
+   * <p>
+   * This table lists details of DHCPv6 clients that matched the filter criteria
+   * of this {{object|#}} entry.
+   *
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<Client> viewClients() {
+    return clients == null ? Collections.emptyList() : clients;
+  }
+
   /**
    * Set the dhcPv6 client table.
    * <p>
@@ -1505,12 +1771,27 @@ public class Pool {
    * @return the value
    */
   public Collection<Option> getOptions() {
-    if (this.options == null) {
-      this.options = new ArrayList<>();
+    if (!(this.options instanceof InstanceTable)) {
+      this.options = InstanceTable.of(this.options);
     }
     return options;
   }
 
+  /**
+   * Read the this object specifies the DHCPv6 options that MUST, if enabled, be
+   * offered to clients whose DHCPv6 requests are associated with this pool. If
+   * {{param|PassthroughClient}} is specified, and the referenced client has a
+   * value for a given option then the {{param|PassthroughClient}} option value
+   * will be sent instead of {{param|Value}}. Otherwise, {{param|Value}} will be
+   * sent.
+   *
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<Option> viewOptions() {
+    return options == null ? Collections.emptyList() : options;
+  }
+
   /**
    * Set the this object specifies the DHCPv6 options that MUST, if enabled, be
    * offered to clients whose DHCPv6 requests are associated with this pool. If
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dhcpv6.server.pool;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dhcpv6.server.pool.client.IPv6Prefix;
 import org.broadbandforum.tr181.device.dhcpv6.server.pool.client.Option;
 
@@ -89,6 +92,16 @@ public class Client {
 	@XmlElement(name = "Option")
 	public Collection<Option> options;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -115,6 +128,8 @@ public class Client {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -128,6 +143,8 @@ public class Client {
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -149,6 +166,8 @@ public class Client {
 	 */
 	public void  setSourceAddress(org.broadbandforum.common.IPv6Address sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -160,6 +179,8 @@ public class Client {
 	 */
 	public Client withSourceAddress(org.broadbandforum.common.IPv6Address sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -185,6 +206,7 @@ public class Client {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -198,6 +220,7 @@ public class Client {
 	 */
 	public Client withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +234,16 @@ public class Client {
 		return ipv6Addresss;
 	}
 
+	/**
+	 * Read the ipv6 addresses assigned to this client via IA_NA.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<org.broadbandforum.tr181.device.dhcpv6.server.pool.client.IPv6Address> viewIpv6Addresss() {
+		return ipv6Addresss == null ? Collections.emptyList() : ipv6Addresss;
+	}
+
 	/**
 	 * Set the ipv6 addresses assigned to this client via IA_NA.
 	 *
@@ -237,10 +270,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<IPv6Prefix> getIpv6Prefixs() {
-		if (this.ipv6Prefixs == null){ this.ipv6Prefixs=new ArrayList<>();}
+		if (!(this.ipv6Prefixs instanceof InstanceTable)){ this.ipv6Prefixs=InstanceTable.of(this.ipv6Prefixs);}
 		return ipv6Prefixs;
 	}
 
+	/**
+	 * Read the ipv6 prefixes delegated to this client via IA_PD.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv6Prefix> viewIpv6Prefixs() {
+		return ipv6Prefixs == null ? Collections.emptyList() : ipv6Prefixs;
+	}
+
 	/**
 	 * Set the ipv6 prefixes delegated to this client via IA_PD.
 	 *
@@ -267,10 +310,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<Option> getOptions() {
-		if (this.options == null){ this.options=new ArrayList<>();}
+		if (!(this.options instanceof InstanceTable)){ this.options=InstanceTable.of(this.options);}
 		return options;
 	}
 
+	/**
+	 * Read the dhcPv6 options supplied by this client, e.g. ''DUID'' (Option 1), ''UserClassID'' (Option 15) or ''VendorClassID'' (option 16).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Option> viewOptions() {
+		return options == null ? Collections.emptyList() : options;
+	}
+
 	/**
 	 * Set the dhcPv6 options supplied by this client, e.g. ''DUID'' (Option 1), ''UserClassID'' (Option 15) or ''VendorClassID'' (option 16).
 	 *
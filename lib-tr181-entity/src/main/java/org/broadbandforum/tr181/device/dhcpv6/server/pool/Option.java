@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object specifies the DHCPv6 options that MUST, if enabled, be offered to clients whose DHCPv6 requests are associated with this pool. If {{param|PassthroughClient}} is specified, and the referenced client has a value for a given option then the {{param|PassthroughClient}} option value will be sent instead of {{param|Value}}. Otherwise, {{param|Value}} will be sent.
@@ -85,6 +87,16 @@ public class Option {
 	@Size(max = 256)
 	public String passthroughClient;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Option() {
 	}
 
@@ -107,6 +119,7 @@ public class Option {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +131,7 @@ public class Option {
 	 */
 	public Option withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -139,6 +153,8 @@ public class Option {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -150,6 +166,8 @@ public class Option {
 	 */
 	public Option withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -171,6 +189,8 @@ public class Option {
 	 */
 	public void  setTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -182,6 +202,8 @@ public class Option {
 	 */
 	public Option withTag(Long tag) {
 		this.tag = tag;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -203,6 +225,7 @@ public class Option {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -214,6 +237,7 @@ public class Option {
 	 */
 	public Option withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -243,6 +267,7 @@ public class Option {
 	 */
 	public void  setPassthroughClient(String passthroughClient) {
 		this.passthroughClient = passthroughClient;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -258,6 +283,7 @@ public class Option {
 	 */
 	public Option withPassthroughClient(String passthroughClient) {
 		this.passthroughClient = passthroughClient;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
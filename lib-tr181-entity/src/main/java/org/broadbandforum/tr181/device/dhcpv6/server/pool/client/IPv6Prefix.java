@@ -21,8 +21,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * IPv6 prefixes delegated to this client via IA_PD.
@@ -48,6 +52,7 @@ public class IPv6Prefix {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "PreferredLifetime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime preferredLifetime;
 	/**
 	 * The time at which this prefix will cease to be valid (i.e. will become invalid), or {{null}} if unknown. For an infinite lifetime, the parameter value MUST be 9999-12-31T23:59:59Z.
@@ -55,8 +60,19 @@ public class IPv6Prefix {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "ValidLifetime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime validLifetime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPv6Prefix() {
 	}
 
@@ -79,6 +95,8 @@ public class IPv6Prefix {
 	 */
 	public void  setPrefix(org.broadbandforum.common.IPv6Prefix prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -90,6 +108,8 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withPrefix(org.broadbandforum.common.IPv6Prefix prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -111,6 +131,7 @@ public class IPv6Prefix {
 	 */
 	public void  setPreferredLifetime(LocalDateTime preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -122,6 +143,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withPreferredLifetime(LocalDateTime preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -143,6 +165,7 @@ public class IPv6Prefix {
 	 */
 	public void  setValidLifetime(LocalDateTime validLifetime) {
 		this.validLifetime = validLifetime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -154,6 +177,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withValidLifetime(LocalDateTime validLifetime) {
 		this.validLifetime = validLifetime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dlna;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * DLNA capabilities.
@@ -110,6 +112,11 @@ public class Capabilities {
 	@XmlList
 	public Collection<String> printerClassProfileID;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -125,6 +132,17 @@ public class Capabilities {
 		return hndDeviceClass;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the supported DLNA Home Network Device Classes {{bibref|DLNA-NDIG|Table 4-1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHndDeviceClass() {
+		return hndDeviceClass == null ? Collections.emptyList() : hndDeviceClass;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the supported DLNA Home Network Device Classes {{bibref|DLNA-NDIG|Table 4-1}}.
 	 *
@@ -133,6 +151,7 @@ public class Capabilities {
 	 */
 	public void  setHndDeviceClass(Collection<String> hndDeviceClass) {
 		this.hndDeviceClass = hndDeviceClass;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -144,6 +163,7 @@ public class Capabilities {
 	 */
 	public Capabilities withHndDeviceClass(String string) {
 		getHndDeviceClass().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -158,6 +178,17 @@ public class Capabilities {
 		return deviceCapability;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the supported DLNA Device Capabilities {{bibref|DLNA-NDIG|Table 4-2}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDeviceCapability() {
+		return deviceCapability == null ? Collections.emptyList() : deviceCapability;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the supported DLNA Device Capabilities {{bibref|DLNA-NDIG|Table 4-2}}.
 	 *
@@ -166,6 +197,7 @@ public class Capabilities {
 	 */
 	public void  setDeviceCapability(Collection<String> deviceCapability) {
 		this.deviceCapability = deviceCapability;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -177,6 +209,7 @@ public class Capabilities {
 	 */
 	public Capabilities withDeviceCapability(String string) {
 		getDeviceCapability().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -191,6 +224,17 @@ public class Capabilities {
 		return hidDeviceClass;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the supported DLNA Home Infrastructure Device Classes {{bibref|DLNA-NDIG|Table 4-4}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHidDeviceClass() {
+		return hidDeviceClass == null ? Collections.emptyList() : hidDeviceClass;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the supported DLNA Home Infrastructure Device Classes {{bibref|DLNA-NDIG|Table 4-4}}.
 	 *
@@ -199,6 +243,7 @@ public class Capabilities {
 	 */
 	public void  setHidDeviceClass(Collection<String> hidDeviceClass) {
 		this.hidDeviceClass = hidDeviceClass;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +255,7 @@ public class Capabilities {
 	 */
 	public Capabilities withHidDeviceClass(String string) {
 		getHidDeviceClass().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -224,6 +270,17 @@ public class Capabilities {
 		return imageClassProfileID;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the DLNA Image Class Profile IDs supported by this device, from Tables 5-2 and 5-3 of {{bibref|DLNA-NDIG}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewImageClassProfileID() {
+		return imageClassProfileID == null ? Collections.emptyList() : imageClassProfileID;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the DLNA Image Class Profile IDs supported by this device, from Tables 5-2 and 5-3 of {{bibref|DLNA-NDIG}}.
 	 *
@@ -232,6 +289,7 @@ public class Capabilities {
 	 */
 	public void  setImageClassProfileID(Collection<String> imageClassProfileID) {
 		this.imageClassProfileID = imageClassProfileID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -243,6 +301,7 @@ public class Capabilities {
 	 */
 	public Capabilities withImageClassProfileID(String string) {
 		getImageClassProfileID().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -257,6 +316,17 @@ public class Capabilities {
 		return audioClassProfileID;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the DLNA Audio Class Profile IDs supported by this device, from Tables 5-4 through 5-10 of {{bibref|DLNA-NDIG}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAudioClassProfileID() {
+		return audioClassProfileID == null ? Collections.emptyList() : audioClassProfileID;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the DLNA Audio Class Profile IDs supported by this device, from Tables 5-4 through 5-10 of {{bibref|DLNA-NDIG}}.
 	 *
@@ -265,6 +335,7 @@ public class Capabilities {
 	 */
 	public void  setAudioClassProfileID(Collection<String> audioClassProfileID) {
 		this.audioClassProfileID = audioClassProfileID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -276,6 +347,7 @@ public class Capabilities {
 	 */
 	public Capabilities withAudioClassProfileID(String string) {
 		getAudioClassProfileID().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -290,6 +362,17 @@ public class Capabilities {
 		return avclassProfileID;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the DLNA AV Class Profile IDs supported by this device, from Tables 5-11 through 5-15 of {{bibref|DLNA-NDIG}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAvclassProfileID() {
+		return avclassProfileID == null ? Collections.emptyList() : avclassProfileID;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the DLNA AV Class Profile IDs supported by this device, from Tables 5-11 through 5-15 of {{bibref|DLNA-NDIG}}.
 	 *
@@ -298,6 +381,7 @@ public class Capabilities {
 	 */
 	public void  setAvclassProfileID(Collection<String> avclassProfileID) {
 		this.avclassProfileID = avclassProfileID;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -309,6 +393,7 @@ public class Capabilities {
 	 */
 	public Capabilities withAvclassProfileID(String string) {
 		getAvclassProfileID().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -323,6 +408,17 @@ public class Capabilities {
 		return mediaCollectionProfileID;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the DLNA Media Collection Profile IDs supported by this device {{bibref|DLNA-NDIG|Table 5-16}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewMediaCollectionProfileID() {
+		return mediaCollectionProfileID == null ? Collections.emptyList() : mediaCollectionProfileID;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the DLNA Media Collection Profile IDs supported by this device {{bibref|DLNA-NDIG|Table 5-16}}.
 	 *
@@ -331,6 +427,7 @@ public class Capabilities {
 	 */
 	public void  setMediaCollectionProfileID(Collection<String> mediaCollectionProfileID) {
 		this.mediaCollectionProfileID = mediaCollectionProfileID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -342,6 +439,7 @@ public class Capabilities {
 	 */
 	public Capabilities withMediaCollectionProfileID(String string) {
 		getMediaCollectionProfileID().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -356,6 +454,17 @@ public class Capabilities {
 		return printerClassProfileID;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the DLNA Printer Class Profile IDs supported by this device {{bibref|DLNA-NDIG|Table 5-17}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPrinterClassProfileID() {
+		return printerClassProfileID == null ? Collections.emptyList() : printerClassProfileID;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the DLNA Printer Class Profile IDs supported by this device {{bibref|DLNA-NDIG|Table 5-17}}.
 	 *
@@ -364,6 +473,7 @@ public class Capabilities {
 	 */
 	public void  setPrinterClassProfileID(Collection<String> printerClassProfileID) {
 		this.printerClassProfileID = printerClassProfileID;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -375,6 +485,7 @@ public class Capabilities {
 	 */
 	public Capabilities withPrinterClassProfileID(String string) {
 		getPrinterClassProfileID().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
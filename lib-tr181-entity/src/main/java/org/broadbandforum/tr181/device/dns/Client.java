@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dns;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dns.client.Server;
 
 	/**
@@ -63,6 +65,11 @@ public class Client {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Server> servers;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Client() {
 	}
 
@@ -85,6 +92,7 @@ public class Client {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -96,6 +104,7 @@ public class Client {
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +130,7 @@ public class Client {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -134,6 +144,7 @@ public class Client {
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -143,10 +154,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<Server> getServers() {
-		if (this.servers == null){ this.servers=new ArrayList<>();}
+		if (!(this.servers instanceof InstanceTable)){ this.servers=InstanceTable.of(this.servers);}
 		return servers;
 	}
 
+	/**
+	 * Read the this table contains the DNS Server IP address to be used by the DHCP Client (it does ''not'' model a DNS Server). Entries are either automatically created as result of DHCP (v4 or v6), IPCP, or RA received DNS server information, or are statically configured by the ACS.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Server> viewServers() {
+		return servers == null ? Collections.emptyList() : servers;
+	}
+
 	/**
 	 * Set the this table contains the DNS Server IP address to be used by the DHCP Client (it does ''not'' model a DNS Server). Entries are either automatically created as result of DHCP (v4 or v6), IPCP, or RA received DNS server information, or are statically configured by the ACS.
 	 *
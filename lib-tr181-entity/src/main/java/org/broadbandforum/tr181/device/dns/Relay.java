@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dns;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dns.relay.Forwarding;
 
 	/**
@@ -65,6 +67,11 @@ public class Relay {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Forwarding> forwardings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Relay() {
 	}
 
@@ -87,6 +94,7 @@ public class Relay {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -98,6 +106,7 @@ public class Relay {
 	 */
 	public Relay withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -123,6 +132,7 @@ public class Relay {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -136,6 +146,7 @@ public class Relay {
 	 */
 	public Relay withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -147,10 +158,22 @@ public class Relay {
 	 * @return the value
 	 */
 	public Collection<Forwarding> getForwardings() {
-		if (this.forwardings == null){ this.forwardings=new ArrayList<>();}
+		if (!(this.forwardings instanceof InstanceTable)){ this.forwardings=InstanceTable.of(this.forwardings);}
 		return forwardings;
 	}
 
+	/**
+	 * Read the dns Server forwarding policy to be used by the DNS Relay.  Entries are either automatically created as result of DHCP (v4 or v6), IPCP, or RA received DNS server information, or are statically configured by the ACS.
+
+        Note: Management of re-directing queries to the device embedded DNS server is not defined in this version of the specification.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Forwarding> viewForwardings() {
+		return forwardings == null ? Collections.emptyList() : forwardings;
+	}
+
 	/**
 	 * Set the dns Server forwarding policy to be used by the DNS Relay.  Entries are either automatically created as result of DHCP (v4 or v6), IPCP, or RA received DNS server information, or are statically configured by the ACS.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dns;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dns.sd.Service;
 
 	/**
@@ -77,6 +79,11 @@ public class SD {
 	@XmlElement(name = "Service")
 	public Collection<Service> services;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SD() {
 	}
 
@@ -99,6 +106,7 @@ public class SD {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +118,7 @@ public class SD {
 	 */
 	public SD withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -141,10 +150,42 @@ public class SD {
 	 * @return the value
 	 */
 	public Collection<Service> getServices() {
-		if (this.services == null){ this.services=new ArrayList<>();}
+		if (!(this.services instanceof InstanceTable)){ this.services=InstanceTable.of(this.services);}
 		return services;
 	}
 
+	/**
+	 * Read the {{object}} table contains discovered DNS-SD services. DNS.SD service information is provided in DNS RR SRV records {{bibref|RFC2782}}. The Service Instance Name {{bibref|DNS-SD|Section 4.1 Structured Instance Names}} further specifies information about the service name (RFC2782 Service field) and domain name (RFC2782 Name field) in the form:
+
+        Service Instance Name = <InstanceName> . <Service> . <Domain>
+
+        <Service> = _<ApplicationProtocol> . _<TransportProtocol>
+
+        RFC2782 Service field will always be equal to <InstanceName>. <Service>
+
+        RFC2782 Name field will always be equal to <Domain> 
+
+        For example, an SSH service might have:
+
+        *{{param|InstanceName}} = "Secure Shell (SSH))"
+
+        *{{param|ApplicationProtocol}} = "ssh"
+
+        *{{param|TransportProtocol}} = "TCP"
+
+        *{{param|Domain}} = "example.com"
+
+        *{{param|Port}} = 22
+
+        *{{param|Target}} = "ssh.example.com."
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Service> viewServices() {
+		return services == null ? Collections.emptyList() : services;
+	}
+
 	/**
 	 * Set the {{object}} table contains discovered DNS-SD services. DNS.SD service information is provided in DNS RR SRV records {{bibref|RFC2782}}. The Service Instance Name {{bibref|DNS-SD|Section 4.1 Structured Instance Names}} further specifies information about the service name (RFC2782 Service field) and domain name (RFC2782 Name field) in the form:
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains the DNS Server IP address to be used by the DHCP Client (it does ''not'' model a DNS Server). Entries are either automatically created as result of DHCP (v4 or v6), IPCP, or RA received DNS server information, or are statically configured by the ACS.
@@ -97,6 +99,16 @@ public class Server {
 	@XmlElement(name = "Type")
 	public String type;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Server() {
 	}
 
@@ -119,6 +131,7 @@ public class Server {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -130,6 +143,7 @@ public class Server {
 	 */
 	public Server withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -155,6 +169,7 @@ public class Server {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -168,6 +183,7 @@ public class Server {
 	 */
 	public Server withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -189,6 +205,8 @@ public class Server {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -200,6 +218,8 @@ public class Server {
 	 */
 	public Server withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -225,6 +245,8 @@ public class Server {
 	 */
 	public void  setDnsServer(IPAddress dnsServer) {
 		this.dnsServer = dnsServer;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -238,6 +260,8 @@ public class Server {
 	 */
 	public Server withDnsServer(IPAddress dnsServer) {
 		this.dnsServer = dnsServer;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -267,6 +291,7 @@ public class Server {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -282,6 +307,7 @@ public class Server {
 	 */
 	public Server with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -307,6 +333,7 @@ public class Server {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -320,6 +347,7 @@ public class Server {
 	 */
 	public Server withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dns.diagnostics;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dns.diagnostics.nslookupdiagnostics.Result;
 
 	/**
@@ -135,6 +137,11 @@ public class NSLookupDiagnostics {
 	@XmlElement(name = "Result")
 	public Collection<Result> results;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NSLookupDiagnostics() {
 	}
 
@@ -193,6 +200,7 @@ public class NSLookupDiagnostics {
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -222,6 +230,7 @@ public class NSLookupDiagnostics {
 	 */
 	public NSLookupDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -247,6 +256,7 @@ public class NSLookupDiagnostics {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -260,6 +270,7 @@ public class NSLookupDiagnostics {
 	 */
 	public NSLookupDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -281,6 +292,7 @@ public class NSLookupDiagnostics {
 	 */
 	public void  setHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -292,6 +304,7 @@ public class NSLookupDiagnostics {
 	 */
 	public NSLookupDiagnostics withHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -317,6 +330,7 @@ public class NSLookupDiagnostics {
 	 */
 	public void  setDnsServer(String dnsServer) {
 		this.dnsServer = dnsServer;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -330,6 +344,7 @@ public class NSLookupDiagnostics {
 	 */
 	public NSLookupDiagnostics withDnsServer(String dnsServer) {
 		this.dnsServer = dnsServer;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -351,6 +366,7 @@ public class NSLookupDiagnostics {
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -362,6 +378,7 @@ public class NSLookupDiagnostics {
 	 */
 	public NSLookupDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -387,6 +404,7 @@ public class NSLookupDiagnostics {
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -400,6 +418,7 @@ public class NSLookupDiagnostics {
 	 */
 	public NSLookupDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -421,6 +440,7 @@ public class NSLookupDiagnostics {
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -432,6 +452,7 @@ public class NSLookupDiagnostics {
 	 */
 	public NSLookupDiagnostics withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -441,10 +462,20 @@ public class NSLookupDiagnostics {
 	 * @return the value
 	 */
 	public Collection<Result> getResults() {
-		if (this.results == null){ this.results=new ArrayList<>();}
+		if (!(this.results instanceof InstanceTable)){ this.results=InstanceTable.of(this.results);}
 		return results;
 	}
 
+	/**
+	 * Read the results from the most recent invocation of the test, one instance per repetition.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Result> viewResults() {
+		return results == null ? Collections.emptyList() : results;
+	}
+
 	/**
 	 * Set the results from the most recent invocation of the test, one instance per repetition.
 	 *
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -90,6 +91,11 @@ public class Result {
 	@CWMPParameter(activeNotify = "canDeny", units = "milliseconds")
 	public Long responseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Result() {
 	}
 
@@ -120,6 +126,7 @@ public class Result {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +142,7 @@ public class Result {
 	 */
 	public Result withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +164,7 @@ public class Result {
 	 */
 	public void  setAnswerType(String answerType) {
 		this.answerType = answerType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -167,6 +176,7 @@ public class Result {
 	 */
 	public Result withAnswerType(String answerType) {
 		this.answerType = answerType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -188,6 +198,7 @@ public class Result {
 	 */
 	public void  setHostNameReturned(String hostNameReturned) {
 		this.hostNameReturned = hostNameReturned;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -199,6 +210,7 @@ public class Result {
 	 */
 	public Result withHostNameReturned(String hostNameReturned) {
 		this.hostNameReturned = hostNameReturned;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -220,6 +232,7 @@ public class Result {
 	 */
 	public void  setIpaddresses(IPAddress ipaddresses) {
 		this.ipaddresses = ipaddresses;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +244,7 @@ public class Result {
 	 */
 	public Result withIpaddresses(IPAddress ipaddresses) {
 		this.ipaddresses = ipaddresses;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -252,6 +266,7 @@ public class Result {
 	 */
 	public void  setDnsServerIP(IPAddress dnsServerIP) {
 		this.dnsServerIP = dnsServerIP;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -263,6 +278,7 @@ public class Result {
 	 */
 	public Result withDnsServerIP(IPAddress dnsServerIP) {
 		this.dnsServerIP = dnsServerIP;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -284,6 +300,7 @@ public class Result {
 	 */
 	public void  setResponseTime(Long responseTime) {
 		this.responseTime = responseTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -295,6 +312,7 @@ public class Result {
 	 */
 	public Result withResponseTime(Long responseTime) {
 		this.responseTime = responseTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
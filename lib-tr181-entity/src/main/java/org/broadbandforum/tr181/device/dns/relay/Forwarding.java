@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * DNS Server forwarding policy to be used by the DNS Relay.  Entries are either automatically created as result of DHCP (v4 or v6), IPCP, or RA received DNS server information, or are statically configured by the ACS.
@@ -99,6 +101,16 @@ public class Forwarding {
 	@XmlElement(name = "Type")
 	public String type;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Forwarding() {
 	}
 
@@ -121,6 +133,7 @@ public class Forwarding {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -132,6 +145,7 @@ public class Forwarding {
 	 */
 	public Forwarding withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -157,6 +171,7 @@ public class Forwarding {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -170,6 +185,7 @@ public class Forwarding {
 	 */
 	public Forwarding withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -191,6 +207,8 @@ public class Forwarding {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -202,6 +220,8 @@ public class Forwarding {
 	 */
 	public Forwarding withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -227,6 +247,8 @@ public class Forwarding {
 	 */
 	public void  setDnsServer(IPAddress dnsServer) {
 		this.dnsServer = dnsServer;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -240,6 +262,8 @@ public class Forwarding {
 	 */
 	public Forwarding withDnsServer(IPAddress dnsServer) {
 		this.dnsServer = dnsServer;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -269,6 +293,7 @@ public class Forwarding {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -284,6 +309,7 @@ public class Forwarding {
 	 */
 	public Forwarding with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -309,6 +335,7 @@ public class Forwarding {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -322,6 +349,7 @@ public class Forwarding {
 	 */
 	public Forwarding withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.dns.sd;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.dns.sd.service.TextRecord;
 
 	/**
@@ -127,6 +132,7 @@ public class Service {
 	 * @since 2.6
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdate;
 	/**
 	 * {{list}} {{reference|all Host table entries, active or inactive, that correspond to this discovered DNS.SD service. As such, when entries are added or removed from the Host tables the value of this parameter MUST be updated accordingly|ignore}}
@@ -170,6 +176,16 @@ public class Service {
 	@XmlElement(name = "TextRecord")
 	public Collection<TextRecord> textRecords;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Service() {
 	}
 
@@ -192,6 +208,8 @@ public class Service {
 	 */
 	public void  setInstanceName(String instanceName) {
 		this.instanceName = instanceName;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -203,6 +221,8 @@ public class Service {
 	 */
 	public Service withInstanceName(String instanceName) {
 		this.instanceName = instanceName;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -224,6 +244,8 @@ public class Service {
 	 */
 	public void  setApplicationProtocol(String applicationProtocol) {
 		this.applicationProtocol = applicationProtocol;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -235,6 +257,8 @@ public class Service {
 	 */
 	public Service withApplicationProtocol(String applicationProtocol) {
 		this.applicationProtocol = applicationProtocol;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -256,6 +280,8 @@ public class Service {
 	 */
 	public void  setTransportProtocol(String transportProtocol) {
 		this.transportProtocol = transportProtocol;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -267,6 +293,8 @@ public class Service {
 	 */
 	public Service withTransportProtocol(String transportProtocol) {
 		this.transportProtocol = transportProtocol;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -288,6 +316,8 @@ public class Service {
 	 */
 	public void  setDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -299,6 +329,8 @@ public class Service {
 	 */
 	public Service withDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -320,6 +352,7 @@ public class Service {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -331,6 +364,7 @@ public class Service {
 	 */
 	public Service withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -352,6 +386,7 @@ public class Service {
 	 */
 	public void  setTarget(String target) {
 		this.target = target;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -363,6 +398,7 @@ public class Service {
 	 */
 	public Service withTarget(String target) {
 		this.target = target;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -392,6 +428,7 @@ public class Service {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -407,6 +444,7 @@ public class Service {
 	 */
 	public Service withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -428,6 +466,7 @@ public class Service {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -439,6 +478,7 @@ public class Service {
 	 */
 	public Service withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -453,6 +493,17 @@ public class Service {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|all Host table entries, active or inactive, that correspond to this discovered DNS.SD service. As such, when entries are added or removed from the Host tables the value of this parameter MUST be updated accordingly|ignore}}
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|all Host table entries, active or inactive, that correspond to this discovered DNS.SD service. As such, when entries are added or removed from the Host tables the value of this parameter MUST be updated accordingly|ignore}}
 	 *
@@ -461,6 +512,7 @@ public class Service {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -472,6 +524,7 @@ public class Service {
 	 */
 	public Service withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -493,6 +546,7 @@ public class Service {
 	 */
 	public void  setTimeToLive(Long timeToLive) {
 		this.timeToLive = timeToLive;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -504,6 +558,7 @@ public class Service {
 	 */
 	public Service withTimeToLive(Long timeToLive) {
 		this.timeToLive = timeToLive;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -525,6 +580,7 @@ public class Service {
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -536,6 +592,7 @@ public class Service {
 	 */
 	public Service withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -557,6 +614,7 @@ public class Service {
 	 */
 	public void  setWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -568,6 +626,7 @@ public class Service {
 	 */
 	public Service withWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -579,10 +638,22 @@ public class Service {
 	 * @return the value
 	 */
 	public Collection<TextRecord> getTextRecords() {
-		if (this.textRecords == null){ this.textRecords=new ArrayList<>();}
+		if (!(this.textRecords instanceof InstanceTable)){ this.textRecords=InstanceTable.of(this.textRecords);}
 		return textRecords;
 	}
 
+	/**
+	 * Read the this object maintains an instance of a (key/value pairs) of the service. The information is extracted from DNS TXT records {{bibref|RFC1035}} of the discovered service.
+
+        When multiple instances of the {{object}} table have the same value for the {{param|Key}} parameter, the implementation is CPE specific.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<TextRecord> viewTextRecords() {
+		return textRecords == null ? Collections.emptyList() : textRecords;
+	}
+
 	/**
 	 * Set the this object maintains an instance of a (key/value pairs) of the service. The information is extracted from DNS TXT records {{bibref|RFC1035}} of the discovered service.
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object maintains an instance of a (key/value pairs) of the service. The information is extracted from DNS TXT records {{bibref|RFC1035}} of the discovered service.
@@ -53,6 +54,11 @@ public class TextRecord {
 	@Size(max = 255)
 	public String value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TextRecord() {
 	}
 
@@ -75,6 +81,7 @@ public class TextRecord {
 	 */
 	public void  setKey(String key) {
 		this.key = key;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -86,6 +93,7 @@ public class TextRecord {
 	 */
 	public TextRecord withKey(String key) {
 		this.key = key;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -107,6 +115,7 @@ public class TextRecord {
 	 */
 	public void  setValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -118,6 +127,7 @@ public class TextRecord {
 	 */
 	public TextRecord withValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dsl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dsl.bondinggroup.BondedChannel;
 import org.broadbandforum.tr181.device.dsl.bondinggroup.Ethernet;
 import org.broadbandforum.tr181.device.dsl.bondinggroup.Stats;
@@ -227,6 +230,16 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	@XmlElement(name = "Ethernet")
 	public Ethernet ethernet;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public BondingGroup() {
 	}
 
@@ -253,6 +266,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -266,6 +280,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -299,6 +314,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -316,6 +332,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -337,6 +354,8 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -348,6 +367,8 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -369,6 +390,8 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -380,6 +403,8 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -401,6 +426,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -412,6 +438,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -428,6 +455,19 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          {{param}} is read-only for this object because bonding is expected to be configured by the CPE, not by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -438,6 +478,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -451,6 +492,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -469,6 +511,21 @@ Enumerated value must be one of [NoPeer, PeerPowerLoss, PeerBondSchemeMismatch,
 		return groupStatus;
 	}
 
+	/**
+	 * Read the {{list}}  Indicates the current fault status of the DSL bonding group.  
+
+Enumerated value must be one of [NoPeer, PeerPowerLoss, PeerBondSchemeMismatch, LowRate]
+
+          Corresponds to {{bibref|TR-159}} ''oBondingGroup.aGroupStatus''.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewGroupStatus() {
+		return groupStatus == null ? Collections.emptyList() : groupStatus;
+	}
+
 	/**
 	 * Set the {{list}}  Indicates the current fault status of the DSL bonding group.  
 
@@ -481,6 +538,7 @@ Enumerated value must be one of [NoPeer, PeerPowerLoss, PeerBondSchemeMismatch,
 	 */
 	public void  setGroupStatus(Collection<String> groupStatus) {
 		this.groupStatus = groupStatus;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -496,6 +554,7 @@ Enumerated value must be one of [NoPeer, PeerPowerLoss, PeerBondSchemeMismatch,
 	 */
 	public BondingGroup withGroupStatus(String string) {
 		getGroupStatus().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -517,6 +576,8 @@ Enumerated value must be one of [NoPeer, PeerPowerLoss, PeerBondSchemeMismatch,
 	 */
 	public void  setGroupID(Long groupID) {
 		this.groupID = groupID;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -528,6 +589,8 @@ Enumerated value must be one of [NoPeer, PeerPowerLoss, PeerBondSchemeMismatch,
 	 */
 	public BondingGroup withGroupID(Long groupID) {
 		this.groupID = groupID;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -546,6 +609,21 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 		return bondSchemesSupported;
 	}
 
+	/**
+	 * Read the {{list}} Supported DSL bonding schemes. 
+
+Enumerated value must be one of [ATM, Ethernet, TDIM]
+
+          Corresponds to {{bibref|TR-159}} ''oBondingGroup.aGroupBondSchemesSupported''.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBondSchemesSupported() {
+		return bondSchemesSupported == null ? Collections.emptyList() : bondSchemesSupported;
+	}
+
 	/**
 	 * Set the {{list}} Supported DSL bonding schemes. 
 
@@ -558,6 +636,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setBondSchemesSupported(Collection<String> bondSchemesSupported) {
 		this.bondSchemesSupported = bondSchemesSupported;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -573,6 +652,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withBondSchemesSupported(String string) {
 		getBondSchemesSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -594,6 +674,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setBondScheme(String bondScheme) {
 		this.bondScheme = bondScheme;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -605,6 +686,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withBondScheme(String bondScheme) {
 		this.bondScheme = bondScheme;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -626,6 +708,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setGroupCapacity(Long groupCapacity) {
 		this.groupCapacity = groupCapacity;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -637,6 +720,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withGroupCapacity(Long groupCapacity) {
 		this.groupCapacity = groupCapacity;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -658,6 +742,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setRunningTime(Long runningTime) {
 		this.runningTime = runningTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -669,6 +754,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withRunningTime(Long runningTime) {
 		this.runningTime = runningTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -690,6 +776,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setTargetUpRate(Long targetUpRate) {
 		this.targetUpRate = targetUpRate;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -701,6 +788,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withTargetUpRate(Long targetUpRate) {
 		this.targetUpRate = targetUpRate;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -722,6 +810,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setTargetDownRate(Long targetDownRate) {
 		this.targetDownRate = targetDownRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -733,6 +822,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withTargetDownRate(Long targetDownRate) {
 		this.targetDownRate = targetDownRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -754,6 +844,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setThreshLowUpRate(Long threshLowUpRate) {
 		this.threshLowUpRate = threshLowUpRate;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -765,6 +856,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withThreshLowUpRate(Long threshLowUpRate) {
 		this.threshLowUpRate = threshLowUpRate;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -786,6 +878,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setThreshLowDownRate(Long threshLowDownRate) {
 		this.threshLowDownRate = threshLowDownRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -797,6 +890,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withThreshLowDownRate(Long threshLowDownRate) {
 		this.threshLowDownRate = threshLowDownRate;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -818,6 +912,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setUpstreamDifferentialDelayTolerance(Long upstreamDifferentialDelayTolerance) {
 		this.upstreamDifferentialDelayTolerance = upstreamDifferentialDelayTolerance;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -829,6 +924,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withUpstreamDifferentialDelayTolerance(Long upstreamDifferentialDelayTolerance) {
 		this.upstreamDifferentialDelayTolerance = upstreamDifferentialDelayTolerance;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -850,6 +946,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public void  setDownstreamDifferentialDelayTolerance(Long downstreamDifferentialDelayTolerance) {
 		this.downstreamDifferentialDelayTolerance = downstreamDifferentialDelayTolerance;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -861,6 +958,7 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 */
 	public BondingGroup withDownstreamDifferentialDelayTolerance(Long downstreamDifferentialDelayTolerance) {
 		this.downstreamDifferentialDelayTolerance = downstreamDifferentialDelayTolerance;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -872,10 +970,22 @@ Enumerated value must be one of [ATM, Ethernet, TDIM]
 	 * @return the value
 	 */
 	public Collection<BondedChannel> getBondedChannels() {
-		if (this.bondedChannels == null){ this.bondedChannels=new ArrayList<>();}
+		if (!(this.bondedChannels instanceof InstanceTable)){ this.bondedChannels=InstanceTable.of(this.bondedChannels);}
 		return bondedChannels;
 	}
 
+	/**
+	 * Read the dsl bonded channel table. Each table entry represents a bonded channel within the bonding group, and is associated with exactly one {{object|##.Channel}} instance. There MUST be an instance of {{object}} for each DSL channel that is bonded.
+
+        When a {{object|##.Channel}} is no longer bonded, then the CPE MUST delete the corresponding {{object}} instance. However, when a bonded {{object|##.Channel}} becomes disabled, the channel remains bonded and so the corresponding {{object}} instance MUST NOT be deleted.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BondedChannel> viewBondedChannels() {
+		return bondedChannels == null ? Collections.emptyList() : bondedChannels;
+	}
+
 	/**
 	 * Set the dsl bonded channel table. Each table entry represents a bonded channel within the bonding group, and is associated with exactly one {{object|##.Channel}} instance. There MUST be an instance of {{object}} for each DSL channel that is bonded.
 
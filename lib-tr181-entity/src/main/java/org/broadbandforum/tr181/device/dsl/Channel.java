@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dsl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dsl.channel.Stats;
 
 	/**
@@ -258,6 +261,16 @@ public class Channel {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Channel() {
 	}
 
@@ -284,6 +297,7 @@ public class Channel {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -297,6 +311,7 @@ public class Channel {
 	 */
 	public Channel withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -330,6 +345,7 @@ public class Channel {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -347,6 +363,7 @@ public class Channel {
 	 */
 	public Channel withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -368,6 +385,8 @@ public class Channel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -379,6 +398,8 @@ public class Channel {
 	 */
 	public Channel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -400,6 +421,8 @@ public class Channel {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -411,6 +434,8 @@ public class Channel {
 	 */
 	public Channel withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -432,6 +457,7 @@ public class Channel {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -443,6 +469,7 @@ public class Channel {
 	 */
 	public Channel withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -457,6 +484,17 @@ public class Channel {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 	 *
@@ -465,6 +503,7 @@ public class Channel {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -476,6 +515,7 @@ public class Channel {
 	 */
 	public Channel withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -490,6 +530,17 @@ public class Channel {
 		return linkEncapsulationSupported;
 	}
 
+	/**
+	 * Read the {{list}} List items indicate which link encapsulation standards and recommendations are supported by the {{object}} instance.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLinkEncapsulationSupported() {
+		return linkEncapsulationSupported == null ? Collections.emptyList() : linkEncapsulationSupported;
+	}
+
 	/**
 	 * Set the {{list}} List items indicate which link encapsulation standards and recommendations are supported by the {{object}} instance.
 	 *
@@ -498,6 +549,7 @@ public class Channel {
 	 */
 	public void  setLinkEncapsulationSupported(Collection<String> linkEncapsulationSupported) {
 		this.linkEncapsulationSupported = linkEncapsulationSupported;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -509,6 +561,7 @@ public class Channel {
 	 */
 	public Channel withLinkEncapsulationSupported(String string) {
 		getLinkEncapsulationSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -538,6 +591,7 @@ public class Channel {
 	 */
 	public void  setLinkEncapsulationUsed(String linkEncapsulationUsed) {
 		this.linkEncapsulationUsed = linkEncapsulationUsed;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -553,6 +607,7 @@ public class Channel {
 	 */
 	public Channel withLinkEncapsulationUsed(String linkEncapsulationUsed) {
 		this.linkEncapsulationUsed = linkEncapsulationUsed;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -578,6 +633,7 @@ public class Channel {
 	 */
 	public void  setLpaTH(Long lpaTH) {
 		this.lpaTH = lpaTH;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -591,6 +647,7 @@ public class Channel {
 	 */
 	public Channel withLpaTH(Long lpaTH) {
 		this.lpaTH = lpaTH;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -616,6 +673,7 @@ public class Channel {
 	 */
 	public void  setIntLVDEPTH(Long intLVDEPTH) {
 		this.intLVDEPTH = intLVDEPTH;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -629,6 +687,7 @@ public class Channel {
 	 */
 	public Channel withIntLVDEPTH(Long intLVDEPTH) {
 		this.intLVDEPTH = intLVDEPTH;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -654,6 +713,7 @@ public class Channel {
 	 */
 	public void  setIntLVBLOCK(Integer intLVBLOCK) {
 		this.intLVBLOCK = intLVBLOCK;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -667,6 +727,7 @@ public class Channel {
 	 */
 	public Channel withIntLVBLOCK(Integer intLVBLOCK) {
 		this.intLVBLOCK = intLVBLOCK;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -692,6 +753,7 @@ public class Channel {
 	 */
 	public void  setActualInterleavingDelay(Long actualInterleavingDelay) {
 		this.actualInterleavingDelay = actualInterleavingDelay;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -705,6 +767,7 @@ public class Channel {
 	 */
 	public Channel withActualInterleavingDelay(Long actualInterleavingDelay) {
 		this.actualInterleavingDelay = actualInterleavingDelay;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -730,6 +793,7 @@ public class Channel {
 	 */
 	public void  setActINP(Integer actINP) {
 		this.actINP = actINP;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -743,6 +807,7 @@ public class Channel {
 	 */
 	public Channel withActINP(Integer actINP) {
 		this.actINP = actINP;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -768,6 +833,7 @@ public class Channel {
 	 */
 	public void  setInpREPORT(Boolean inpREPORT) {
 		this.inpREPORT = inpREPORT;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -781,6 +847,7 @@ public class Channel {
 	 */
 	public Channel withInpREPORT(Boolean inpREPORT) {
 		this.inpREPORT = inpREPORT;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -806,6 +873,7 @@ public class Channel {
 	 */
 	public void  setNfeC(Integer nfeC) {
 		this.nfeC = nfeC;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -819,6 +887,7 @@ public class Channel {
 	 */
 	public Channel withNfeC(Integer nfeC) {
 		this.nfeC = nfeC;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -844,6 +913,7 @@ public class Channel {
 	 */
 	public void  setRfeC(Integer rfeC) {
 		this.rfeC = rfeC;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -857,6 +927,7 @@ public class Channel {
 	 */
 	public Channel withRfeC(Integer rfeC) {
 		this.rfeC = rfeC;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -882,6 +953,7 @@ public class Channel {
 	 */
 	public void  setLsyMB(Integer lsyMB) {
 		this.lsyMB = lsyMB;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -895,6 +967,7 @@ public class Channel {
 	 */
 	public Channel withLsyMB(Integer lsyMB) {
 		this.lsyMB = lsyMB;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -920,6 +993,7 @@ public class Channel {
 	 */
 	public void  setUpstreamCurrRate(Long upstreamCurrRate) {
 		this.upstreamCurrRate = upstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -933,6 +1007,7 @@ public class Channel {
 	 */
 	public Channel withUpstreamCurrRate(Long upstreamCurrRate) {
 		this.upstreamCurrRate = upstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -958,6 +1033,7 @@ public class Channel {
 	 */
 	public void  setDownstreamCurrRate(Long downstreamCurrRate) {
 		this.downstreamCurrRate = downstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -971,6 +1047,7 @@ public class Channel {
 	 */
 	public Channel withDownstreamCurrRate(Long downstreamCurrRate) {
 		this.downstreamCurrRate = downstreamCurrRate;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1004,6 +1081,7 @@ public class Channel {
 	 */
 	public void  setActNDR(Long actNDR) {
 		this.actNDR = actNDR;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1021,6 +1099,7 @@ public class Channel {
 	 */
 	public Channel withActNDR(Long actNDR) {
 		this.actNDR = actNDR;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1058,6 +1137,7 @@ public class Channel {
 	 */
 	public void  setActINPREIN(Long actINPREIN) {
 		this.actINPREIN = actINPREIN;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1077,6 +1157,7 @@ public class Channel {
 	 */
 	public Channel withActINPREIN(Long actINPREIN) {
 		this.actINPREIN = actINPREIN;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dsl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dsl.line.DataGathering;
 import org.broadbandforum.tr181.device.dsl.line.Stats;
 import org.broadbandforum.tr181.device.dsl.line.TestParams;
@@ -748,6 +751,16 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	@XmlElement(name = "TestParams")
 	public TestParams testParams;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Line() {
 	}
 
@@ -774,6 +787,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -787,6 +801,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -808,6 +823,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setEnableDataGathering(Boolean enableDataGathering) {
 		this.enableDataGathering = enableDataGathering;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -819,6 +835,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withEnableDataGathering(Boolean enableDataGathering) {
 		this.enableDataGathering = enableDataGathering;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -852,6 +869,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -869,6 +887,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -890,6 +909,8 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -901,6 +922,8 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -922,6 +945,8 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -933,6 +958,8 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -954,6 +981,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -965,6 +993,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -981,6 +1010,19 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -991,6 +1033,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -1004,6 +1047,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -1041,6 +1085,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -1060,6 +1105,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -1081,6 +1127,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -1092,6 +1139,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -1121,6 +1169,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -1136,6 +1185,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withLinkStatus(String linkStatus) {
 		this.linkStatus = linkStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -1156,6 +1206,23 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 		return standardsSupported;
 	}
 
+	/**
+	 * Read the {{list}} List items indicate which DSL standards and recommendations are supported by the {{object}} instance. 
+
+Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex_C, T1.413, T1.413i2, ETSI_101_388, G.992.2, G.992.3_Annex_A, G.992.3_Annex_B, G.992.3_Annex_C, G.992.3_Annex_I, G.992.3_Annex_J, G.992.3_Annex_L, G.992.3_Annex_M, G.992.4, G.992.5_Annex_A, G.992.5_Annex_B, G.992.5_Annex_C, G.992.5_Annex_I, G.992.5_Annex_J, G.992.5_Annex_M, G.993.1, G.993.1_Annex_A, G.993.2_Annex_A, G.993.2_Annex_B, G.993.2_Annex_C]
+
+          Note: In G.997.1, this parameter is called "xDSL Transmission system capabilities". See ITU-T Recommendation {{bibref|G.997.1}}.
+
+          This parameter is DEPRECATED because its entries are out-of-date; {{param|XTSE}} points to a current list.  Therefore its value MAY be {{empty}} if (and only if) {{param|XTSE}} is supported.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewStandardsSupported() {
+		return standardsSupported == null ? Collections.emptyList() : standardsSupported;
+	}
+
 	/**
 	 * Set the {{list}} List items indicate which DSL standards and recommendations are supported by the {{object}} instance. 
 
@@ -1170,6 +1237,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public void  setStandardsSupported(Collection<String> standardsSupported) {
 		this.standardsSupported = standardsSupported;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -1187,6 +1255,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public Line withStandardsSupported(String string) {
 		getStandardsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -1212,6 +1281,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public void  setXtsE(byte[] xtsE) {
 		this.xtsE = xtsE;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -1225,6 +1295,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public Line withXtsE(byte[] xtsE) {
 		this.xtsE = xtsE;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1254,6 +1325,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public void  setStandardUsed(String standardUsed) {
 		this.standardUsed = standardUsed;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1269,6 +1341,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public Line withStandardUsed(String standardUsed) {
 		this.standardUsed = standardUsed;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1290,6 +1363,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public void  setXtsUsed(byte[] xtsUsed) {
 		this.xtsUsed = xtsUsed;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1301,6 +1375,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public Line withXtsUsed(byte[] xtsUsed) {
 		this.xtsUsed = xtsUsed;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1326,6 +1401,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public void  setLineEncoding(String lineEncoding) {
 		this.lineEncoding = lineEncoding;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1339,6 +1415,7 @@ Enumerated value must be one of [G.992.1_Annex_A, G.992.1_Annex_B, G.992.1_Annex
 	 */
 	public Line withLineEncoding(String lineEncoding) {
 		this.lineEncoding = lineEncoding;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1359,6 +1436,23 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 		return allowedProfiles;
 	}
 
+	/**
+	 * Read the {{list}} List items indicate which VDSL2 profiles are allowed on the line.  
+
+Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
+
+          Note:  In G.997.1, this parameter is called PROFILES.  See ITU-T Recommendation {{bibref|G.997.1}}.
+
+          Note: This parameter is OPTIONAL at the G and S/T interfaces in G.997.1 Amendment 1.  If the parameter is implemented but no value is  available, its value MUST be {{empty}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAllowedProfiles() {
+		return allowedProfiles == null ? Collections.emptyList() : allowedProfiles;
+	}
+
 	/**
 	 * Set the {{list}} List items indicate which VDSL2 profiles are allowed on the line.  
 
@@ -1373,6 +1467,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setAllowedProfiles(Collection<String> allowedProfiles) {
 		this.allowedProfiles = allowedProfiles;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1390,6 +1485,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withAllowedProfiles(String string) {
 		getAllowedProfiles().add(string);
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1415,6 +1511,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setCurrentProfile(String currentProfile) {
 		this.currentProfile = currentProfile;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1428,6 +1525,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withCurrentProfile(String currentProfile) {
 		this.currentProfile = currentProfile;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1453,6 +1551,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setPowerManagementState(String powerManagementState) {
 		this.powerManagementState = powerManagementState;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1466,6 +1565,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withPowerManagementState(String powerManagementState) {
 		this.powerManagementState = powerManagementState;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1519,6 +1619,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setSuccessFailureCause(Long successFailureCause) {
 		this.successFailureCause = successFailureCause;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1546,6 +1647,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withSuccessFailureCause(Long successFailureCause) {
 		this.successFailureCause = successFailureCause;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1571,6 +1673,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpbOKLER(Long upbOKLER) {
 		this.upbOKLER = upbOKLER;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1584,6 +1687,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpbOKLER(Long upbOKLER) {
 		this.upbOKLER = upbOKLER;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1613,6 +1717,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpbOKLEPb(Long upbOKLEPb) {
 		this.upbOKLEPb = upbOKLEPb;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1628,6 +1733,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpbOKLEPb(Long upbOKLEPb) {
 		this.upbOKLEPb = upbOKLEPb;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1661,6 +1767,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpbOKLERPb(Long upbOKLERPb) {
 		this.upbOKLERPb = upbOKLERPb;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1678,6 +1785,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpbOKLERPb(Long upbOKLERPb) {
 		this.upbOKLERPb = upbOKLERPb;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1711,6 +1819,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setRxtHRSHds(Integer rxtHRSHds) {
 		this.rxtHRSHds = rxtHRSHds;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1728,6 +1837,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withRxtHRSHds(Integer rxtHRSHds) {
 		this.rxtHRSHds = rxtHRSHds;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1769,6 +1879,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setActRAMODEds(Long actRAMODEds) {
 		this.actRAMODEds = actRAMODEds;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1790,6 +1901,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withActRAMODEds(Long actRAMODEds) {
 		this.actRAMODEds = actRAMODEds;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1831,6 +1943,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setActRAMODEus(Long actRAMODEus) {
 		this.actRAMODEus = actRAMODEus;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1852,6 +1965,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withActRAMODEus(Long actRAMODEus) {
 		this.actRAMODEus = actRAMODEus;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1877,6 +1991,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setActINPROCds(Long actINPROCds) {
 		this.actINPROCds = actINPROCds;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1890,6 +2005,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withActINPROCds(Long actINPROCds) {
 		this.actINPROCds = actINPROCds;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1915,6 +2031,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setActINPROCus(Long actINPROCus) {
 		this.actINPROCus = actINPROCus;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1928,6 +2045,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withActINPROCus(Long actINPROCus) {
 		this.actINPROCus = actINPROCus;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1953,6 +2071,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setSnrMROCds(Long snrMROCds) {
 		this.snrMROCds = snrMROCds;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1966,6 +2085,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withSnrMROCds(Long snrMROCds) {
 		this.snrMROCds = snrMROCds;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1991,6 +2111,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setSnrMROCus(Long snrMROCus) {
 		this.snrMROCus = snrMROCus;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -2004,6 +2125,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withSnrMROCus(Long snrMROCus) {
 		this.snrMROCus = snrMROCus;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -2033,6 +2155,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setLastStateTransmittedDownstream(Long lastStateTransmittedDownstream) {
 		this.lastStateTransmittedDownstream = lastStateTransmittedDownstream;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -2048,6 +2171,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withLastStateTransmittedDownstream(Long lastStateTransmittedDownstream) {
 		this.lastStateTransmittedDownstream = lastStateTransmittedDownstream;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -2077,6 +2201,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setLastStateTransmittedUpstream(Long lastStateTransmittedUpstream) {
 		this.lastStateTransmittedUpstream = lastStateTransmittedUpstream;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -2092,6 +2217,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withLastStateTransmittedUpstream(Long lastStateTransmittedUpstream) {
 		this.lastStateTransmittedUpstream = lastStateTransmittedUpstream;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -2117,6 +2243,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpbOKLE(Long upbOKLE) {
 		this.upbOKLE = upbOKLE;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -2130,6 +2257,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpbOKLE(Long upbOKLE) {
 		this.upbOKLE = upbOKLE;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -2155,6 +2283,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setMreFPSDds(String mreFPSDds) {
 		this.mreFPSDds = mreFPSDds;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -2168,6 +2297,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withMreFPSDds(String mreFPSDds) {
 		this.mreFPSDds = mreFPSDds;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -2193,6 +2323,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setMreFPSDus(String mreFPSDus) {
 		this.mreFPSDus = mreFPSDus;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -2206,6 +2337,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withMreFPSDus(String mreFPSDus) {
 		this.mreFPSDus = mreFPSDus;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -2235,6 +2367,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setLimITMASK(Long limITMASK) {
 		this.limITMASK = limITMASK;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -2250,6 +2383,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withLimITMASK(Long limITMASK) {
 		this.limITMASK = limITMASK;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -2279,6 +2413,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUs0MASK(Long us0MASK) {
 		this.us0MASK = us0MASK;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -2294,6 +2429,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUs0MASK(Long us0MASK) {
 		this.us0MASK = us0MASK;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -2319,6 +2455,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setTreLLISds(Integer treLLISds) {
 		this.treLLISds = treLLISds;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -2332,6 +2469,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withTreLLISds(Integer treLLISds) {
 		this.treLLISds = treLLISds;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -2357,6 +2495,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setTreLLISus(Integer treLLISus) {
 		this.treLLISus = treLLISus;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -2370,6 +2509,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withTreLLISus(Integer treLLISus) {
 		this.treLLISus = treLLISus;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -2395,6 +2535,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setActSNRMODEds(Long actSNRMODEds) {
 		this.actSNRMODEds = actSNRMODEds;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -2408,6 +2549,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withActSNRMODEds(Long actSNRMODEds) {
 		this.actSNRMODEds = actSNRMODEds;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -2433,6 +2575,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setActSNRMODEus(Long actSNRMODEus) {
 		this.actSNRMODEus = actSNRMODEus;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -2446,6 +2589,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withActSNRMODEus(Long actSNRMODEus) {
 		this.actSNRMODEus = actSNRMODEus;
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -2471,6 +2615,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setVirtualNoisePSDds(String virtualNoisePSDds) {
 		this.virtualNoisePSDds = virtualNoisePSDds;
+		if (this.dirty != null){ this.dirty.set(40);}
 	}
 
 	/**
@@ -2484,6 +2629,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withVirtualNoisePSDds(String virtualNoisePSDds) {
 		this.virtualNoisePSDds = virtualNoisePSDds;
+		if (this.dirty != null){ this.dirty.set(40);}
 		return this;
 	}
 
@@ -2509,6 +2655,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setVirtualNoisePSDus(String virtualNoisePSDus) {
 		this.virtualNoisePSDus = virtualNoisePSDus;
+		if (this.dirty != null){ this.dirty.set(41);}
 	}
 
 	/**
@@ -2522,6 +2669,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withVirtualNoisePSDus(String virtualNoisePSDus) {
 		this.virtualNoisePSDus = virtualNoisePSDus;
+		if (this.dirty != null){ this.dirty.set(41);}
 		return this;
 	}
 
@@ -2547,6 +2695,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setActUALCE(Long actUALCE) {
 		this.actUALCE = actUALCE;
+		if (this.dirty != null){ this.dirty.set(42);}
 	}
 
 	/**
@@ -2560,6 +2709,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withActUALCE(Long actUALCE) {
 		this.actUALCE = actUALCE;
+		if (this.dirty != null){ this.dirty.set(42);}
 		return this;
 	}
 
@@ -2581,6 +2731,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setLineNumber(Integer lineNumber) {
 		this.lineNumber = lineNumber;
+		if (this.dirty != null){ this.dirty.set(43);}
 	}
 
 	/**
@@ -2592,6 +2743,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withLineNumber(Integer lineNumber) {
 		this.lineNumber = lineNumber;
+		if (this.dirty != null){ this.dirty.set(43);}
 		return this;
 	}
 
@@ -2617,6 +2769,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpstreamMaxBitRate(Long upstreamMaxBitRate) {
 		this.upstreamMaxBitRate = upstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(44);}
 	}
 
 	/**
@@ -2630,6 +2783,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpstreamMaxBitRate(Long upstreamMaxBitRate) {
 		this.upstreamMaxBitRate = upstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(44);}
 		return this;
 	}
 
@@ -2655,6 +2809,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setDownstreamMaxBitRate(Long downstreamMaxBitRate) {
 		this.downstreamMaxBitRate = downstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(45);}
 	}
 
 	/**
@@ -2668,6 +2823,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withDownstreamMaxBitRate(Long downstreamMaxBitRate) {
 		this.downstreamMaxBitRate = downstreamMaxBitRate;
+		if (this.dirty != null){ this.dirty.set(45);}
 		return this;
 	}
 
@@ -2693,6 +2849,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpstreamNoiseMargin(Integer upstreamNoiseMargin) {
 		this.upstreamNoiseMargin = upstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(46);}
 	}
 
 	/**
@@ -2706,6 +2863,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpstreamNoiseMargin(Integer upstreamNoiseMargin) {
 		this.upstreamNoiseMargin = upstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(46);}
 		return this;
 	}
 
@@ -2731,6 +2889,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setDownstreamNoiseMargin(Integer downstreamNoiseMargin) {
 		this.downstreamNoiseMargin = downstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(47);}
 	}
 
 	/**
@@ -2744,6 +2903,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withDownstreamNoiseMargin(Integer downstreamNoiseMargin) {
 		this.downstreamNoiseMargin = downstreamNoiseMargin;
+		if (this.dirty != null){ this.dirty.set(47);}
 		return this;
 	}
 
@@ -2760,6 +2920,19 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 		return snrMpbus;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the current signal-to-noise ratio margin of each upstream band.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSnrMpbus() {
+		return snrMpbus == null ? Collections.emptyList() : snrMpbus;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the current signal-to-noise ratio margin of each upstream band.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -2770,6 +2943,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setSnrMpbus(Collection<String> snrMpbus) {
 		this.snrMpbus = snrMpbus;
+		if (this.dirty != null){ this.dirty.set(48);}
 	}
 
 	/**
@@ -2783,6 +2957,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withSnrMpbus(String string) {
 		getSnrMpbus().add(string);
+		if (this.dirty != null){ this.dirty.set(48);}
 		return this;
 	}
 
@@ -2799,6 +2974,19 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 		return snrMpbds;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the current signal-to-noise ratio margin of each band.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSnrMpbds() {
+		return snrMpbds == null ? Collections.emptyList() : snrMpbds;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the current signal-to-noise ratio margin of each band.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -2809,6 +2997,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setSnrMpbds(Collection<String> snrMpbds) {
 		this.snrMpbds = snrMpbds;
+		if (this.dirty != null){ this.dirty.set(49);}
 	}
 
 	/**
@@ -2822,6 +3011,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withSnrMpbds(String string) {
 		getSnrMpbds().add(string);
+		if (this.dirty != null){ this.dirty.set(49);}
 		return this;
 	}
 
@@ -2847,6 +3037,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setInmIATOds(Long inmIATOds) {
 		this.inmIATOds = inmIATOds;
+		if (this.dirty != null){ this.dirty.set(50);}
 	}
 
 	/**
@@ -2860,6 +3051,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withInmIATOds(Long inmIATOds) {
 		this.inmIATOds = inmIATOds;
+		if (this.dirty != null){ this.dirty.set(50);}
 		return this;
 	}
 
@@ -2885,6 +3077,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setInmIATSds(Long inmIATSds) {
 		this.inmIATSds = inmIATSds;
+		if (this.dirty != null){ this.dirty.set(51);}
 	}
 
 	/**
@@ -2898,6 +3091,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withInmIATSds(Long inmIATSds) {
 		this.inmIATSds = inmIATSds;
+		if (this.dirty != null){ this.dirty.set(51);}
 		return this;
 	}
 
@@ -2923,6 +3117,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setInmCCds(Long inmCCds) {
 		this.inmCCds = inmCCds;
+		if (this.dirty != null){ this.dirty.set(52);}
 	}
 
 	/**
@@ -2936,6 +3131,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withInmCCds(Long inmCCds) {
 		this.inmCCds = inmCCds;
+		if (this.dirty != null){ this.dirty.set(52);}
 		return this;
 	}
 
@@ -2961,6 +3157,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setInmINPEQMODEds(Long inmINPEQMODEds) {
 		this.inmINPEQMODEds = inmINPEQMODEds;
+		if (this.dirty != null){ this.dirty.set(53);}
 	}
 
 	/**
@@ -2974,6 +3171,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withInmINPEQMODEds(Long inmINPEQMODEds) {
 		this.inmINPEQMODEds = inmINPEQMODEds;
+		if (this.dirty != null){ this.dirty.set(53);}
 		return this;
 	}
 
@@ -2995,6 +3193,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpstreamAttenuation(Integer upstreamAttenuation) {
 		this.upstreamAttenuation = upstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(54);}
 	}
 
 	/**
@@ -3006,6 +3205,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpstreamAttenuation(Integer upstreamAttenuation) {
 		this.upstreamAttenuation = upstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(54);}
 		return this;
 	}
 
@@ -3027,6 +3227,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setDownstreamAttenuation(Integer downstreamAttenuation) {
 		this.downstreamAttenuation = downstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(55);}
 	}
 
 	/**
@@ -3038,6 +3239,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withDownstreamAttenuation(Integer downstreamAttenuation) {
 		this.downstreamAttenuation = downstreamAttenuation;
+		if (this.dirty != null){ this.dirty.set(55);}
 		return this;
 	}
 
@@ -3059,6 +3261,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setUpstreamPower(Integer upstreamPower) {
 		this.upstreamPower = upstreamPower;
+		if (this.dirty != null){ this.dirty.set(56);}
 	}
 
 	/**
@@ -3070,6 +3273,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withUpstreamPower(Integer upstreamPower) {
 		this.upstreamPower = upstreamPower;
+		if (this.dirty != null){ this.dirty.set(56);}
 		return this;
 	}
 
@@ -3091,6 +3295,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setDownstreamPower(Integer downstreamPower) {
 		this.downstreamPower = downstreamPower;
+		if (this.dirty != null){ this.dirty.set(57);}
 	}
 
 	/**
@@ -3102,6 +3307,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withDownstreamPower(Integer downstreamPower) {
 		this.downstreamPower = downstreamPower;
+		if (this.dirty != null){ this.dirty.set(57);}
 		return this;
 	}
 
@@ -3131,6 +3337,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuRVendor(byte[] xtuRVendor) {
 		this.xtuRVendor = xtuRVendor;
+		if (this.dirty != null){ this.dirty.set(58);}
 	}
 
 	/**
@@ -3146,6 +3353,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuRVendor(byte[] xtuRVendor) {
 		this.xtuRVendor = xtuRVendor;
+		if (this.dirty != null){ this.dirty.set(58);}
 		return this;
 	}
 
@@ -3175,6 +3383,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuRCountry(byte[] xtuRCountry) {
 		this.xtuRCountry = xtuRCountry;
+		if (this.dirty != null){ this.dirty.set(59);}
 	}
 
 	/**
@@ -3190,6 +3399,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuRCountry(byte[] xtuRCountry) {
 		this.xtuRCountry = xtuRCountry;
+		if (this.dirty != null){ this.dirty.set(59);}
 		return this;
 	}
 
@@ -3215,6 +3425,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuRANSIStd(Long xtuRANSIStd) {
 		this.xtuRANSIStd = xtuRANSIStd;
+		if (this.dirty != null){ this.dirty.set(60);}
 	}
 
 	/**
@@ -3228,6 +3439,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuRANSIStd(Long xtuRANSIStd) {
 		this.xtuRANSIStd = xtuRANSIStd;
+		if (this.dirty != null){ this.dirty.set(60);}
 		return this;
 	}
 
@@ -3253,6 +3465,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuRANSIRev(Long xtuRANSIRev) {
 		this.xtuRANSIRev = xtuRANSIRev;
+		if (this.dirty != null){ this.dirty.set(61);}
 	}
 
 	/**
@@ -3266,6 +3479,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuRANSIRev(Long xtuRANSIRev) {
 		this.xtuRANSIRev = xtuRANSIRev;
+		if (this.dirty != null){ this.dirty.set(61);}
 		return this;
 	}
 
@@ -3291,6 +3505,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuCVendor(byte[] xtuCVendor) {
 		this.xtuCVendor = xtuCVendor;
+		if (this.dirty != null){ this.dirty.set(62);}
 	}
 
 	/**
@@ -3304,6 +3519,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuCVendor(byte[] xtuCVendor) {
 		this.xtuCVendor = xtuCVendor;
+		if (this.dirty != null){ this.dirty.set(62);}
 		return this;
 	}
 
@@ -3329,6 +3545,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuCCountry(byte[] xtuCCountry) {
 		this.xtuCCountry = xtuCCountry;
+		if (this.dirty != null){ this.dirty.set(63);}
 	}
 
 	/**
@@ -3342,6 +3559,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuCCountry(byte[] xtuCCountry) {
 		this.xtuCCountry = xtuCCountry;
+		if (this.dirty != null){ this.dirty.set(63);}
 		return this;
 	}
 
@@ -3367,6 +3585,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuCANSIStd(Long xtuCANSIStd) {
 		this.xtuCANSIStd = xtuCANSIStd;
+		if (this.dirty != null){ this.dirty.set(64);}
 	}
 
 	/**
@@ -3380,6 +3599,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuCANSIStd(Long xtuCANSIStd) {
 		this.xtuCANSIStd = xtuCANSIStd;
+		if (this.dirty != null){ this.dirty.set(64);}
 		return this;
 	}
 
@@ -3405,6 +3625,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public void  setXtuCANSIRev(Long xtuCANSIRev) {
 		this.xtuCANSIRev = xtuCANSIRev;
+		if (this.dirty != null){ this.dirty.set(65);}
 	}
 
 	/**
@@ -3418,6 +3639,7 @@ Enumerated value must be one of [8a, 8b, 8c, 8d, 12a, 12b, 17a, 17b, 30a]
 	 */
 	public Line withXtuCANSIRev(Long xtuCANSIRev) {
 		this.xtuCANSIRev = xtuCANSIRev;
+		if (this.dirty != null){ this.dirty.set(65);}
 		return this;
 	}
 
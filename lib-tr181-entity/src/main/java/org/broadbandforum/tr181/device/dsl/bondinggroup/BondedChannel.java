@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dsl.bondinggroup.bondedchannel.Ethernet;
 
 	/**
@@ -67,6 +69,16 @@ public class BondedChannel {
 	@XmlElement(name = "Ethernet")
 	public Ethernet ethernet;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public BondedChannel() {
 	}
 
@@ -89,6 +101,8 @@ public class BondedChannel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -100,6 +114,8 @@ public class BondedChannel {
 	 */
 	public BondedChannel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -125,6 +141,8 @@ public class BondedChannel {
 	 */
 	public void  setChannel(String channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -138,6 +156,8 @@ public class BondedChannel {
 	 */
 	public BondedChannel withChannel(String channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.dsl.bondinggroup.stats.CurrentDay;
 import org.broadbandforum.tr181.device.dsl.bondinggroup.stats.QuarterHour;
 import org.broadbandforum.tr181.device.dsl.bondinggroup.stats.Total;
@@ -221,6 +222,11 @@ public class Stats {
 	@XmlElement(name = "QuarterHour")
 	public QuarterHour quarterHour;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -243,6 +249,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -254,6 +261,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -275,6 +283,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -286,6 +295,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -307,6 +317,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -318,6 +329,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -339,6 +351,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -350,6 +363,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -371,6 +385,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -382,6 +397,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -403,6 +419,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -414,6 +431,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -435,6 +453,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -446,6 +465,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -467,6 +487,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -478,6 +499,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -499,6 +521,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -510,6 +533,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -531,6 +555,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -542,6 +567,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -563,6 +589,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -574,6 +601,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -595,6 +623,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -606,6 +635,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -627,6 +657,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -638,6 +669,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -659,6 +691,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -670,6 +703,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -691,6 +725,7 @@ public class Stats {
 	 */
 	public void  setUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -702,6 +737,7 @@ public class Stats {
 	 */
 	public Stats withUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -731,6 +767,7 @@ public class Stats {
 	 */
 	public void  setTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -746,6 +783,7 @@ public class Stats {
 	 */
 	public Stats withTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -779,6 +817,7 @@ public class Stats {
 	 */
 	public void  setCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -796,6 +835,7 @@ public class Stats {
 	 */
 	public Stats withCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -829,6 +869,7 @@ public class Stats {
 	 */
 	public void  setQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -846,6 +887,7 @@ public class Stats {
 	 */
 	public Stats withQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Per-channel {{bibref|G.998.2}} Ethernet-based bonding statistics.
@@ -94,6 +95,11 @@ public class Stats {
 	@XmlElement(name = "FramesDropped")
 	public Long framesDropped;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -116,6 +122,7 @@ public class Stats {
 	 */
 	public void  setUnderflowErrorsSent(Long underflowErrorsSent) {
 		this.underflowErrorsSent = underflowErrorsSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -127,6 +134,7 @@ public class Stats {
 	 */
 	public Stats withUnderflowErrorsSent(Long underflowErrorsSent) {
 		this.underflowErrorsSent = underflowErrorsSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -148,6 +156,7 @@ public class Stats {
 	 */
 	public void  setCrcErrorsReceived(Long crcErrorsReceived) {
 		this.crcErrorsReceived = crcErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -159,6 +168,7 @@ public class Stats {
 	 */
 	public Stats withCrcErrorsReceived(Long crcErrorsReceived) {
 		this.crcErrorsReceived = crcErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -180,6 +190,7 @@ public class Stats {
 	 */
 	public void  setAlignmentErrorsReceived(Long alignmentErrorsReceived) {
 		this.alignmentErrorsReceived = alignmentErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -191,6 +202,7 @@ public class Stats {
 	 */
 	public Stats withAlignmentErrorsReceived(Long alignmentErrorsReceived) {
 		this.alignmentErrorsReceived = alignmentErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -212,6 +224,7 @@ public class Stats {
 	 */
 	public void  setShortPacketsReceived(Long shortPacketsReceived) {
 		this.shortPacketsReceived = shortPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -223,6 +236,7 @@ public class Stats {
 	 */
 	public Stats withShortPacketsReceived(Long shortPacketsReceived) {
 		this.shortPacketsReceived = shortPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -244,6 +258,7 @@ public class Stats {
 	 */
 	public void  setLongPacketsReceived(Long longPacketsReceived) {
 		this.longPacketsReceived = longPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -255,6 +270,7 @@ public class Stats {
 	 */
 	public Stats withLongPacketsReceived(Long longPacketsReceived) {
 		this.longPacketsReceived = longPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -276,6 +292,7 @@ public class Stats {
 	 */
 	public void  setOverflowErrorsReceived(Long overflowErrorsReceived) {
 		this.overflowErrorsReceived = overflowErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -287,6 +304,7 @@ public class Stats {
 	 */
 	public Stats withOverflowErrorsReceived(Long overflowErrorsReceived) {
 		this.overflowErrorsReceived = overflowErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -308,6 +326,7 @@ public class Stats {
 	 */
 	public void  setPauseFramesReceived(Long pauseFramesReceived) {
 		this.pauseFramesReceived = pauseFramesReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -319,6 +338,7 @@ public class Stats {
 	 */
 	public Stats withPauseFramesReceived(Long pauseFramesReceived) {
 		this.pauseFramesReceived = pauseFramesReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -340,6 +360,7 @@ public class Stats {
 	 */
 	public void  setFramesDropped(Long framesDropped) {
 		this.framesDropped = framesDropped;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -351,6 +372,7 @@ public class Stats {
 	 */
 	public Stats withFramesDropped(Long framesDropped) {
 		this.framesDropped = framesDropped;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
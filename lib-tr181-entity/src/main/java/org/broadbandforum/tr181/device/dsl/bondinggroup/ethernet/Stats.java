@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * {{bibref|G.998.2}} Ethernet-based bonding statistics.
@@ -150,6 +151,11 @@ public class Stats {
 	@XmlElement(name = "FramesDropped")
 	public Long framesDropped;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -172,6 +178,7 @@ public class Stats {
 	 */
 	public void  setPafErrors(Long pafErrors) {
 		this.pafErrors = pafErrors;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -183,6 +190,7 @@ public class Stats {
 	 */
 	public Stats withPafErrors(Long pafErrors) {
 		this.pafErrors = pafErrors;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -204,6 +212,7 @@ public class Stats {
 	 */
 	public void  setPafSmallFragments(Long pafSmallFragments) {
 		this.pafSmallFragments = pafSmallFragments;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -215,6 +224,7 @@ public class Stats {
 	 */
 	public Stats withPafSmallFragments(Long pafSmallFragments) {
 		this.pafSmallFragments = pafSmallFragments;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -236,6 +246,7 @@ public class Stats {
 	 */
 	public void  setPafLargeFragments(Long pafLargeFragments) {
 		this.pafLargeFragments = pafLargeFragments;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -247,6 +258,7 @@ public class Stats {
 	 */
 	public Stats withPafLargeFragments(Long pafLargeFragments) {
 		this.pafLargeFragments = pafLargeFragments;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -268,6 +280,7 @@ public class Stats {
 	 */
 	public void  setPafBadFragments(Long pafBadFragments) {
 		this.pafBadFragments = pafBadFragments;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -279,6 +292,7 @@ public class Stats {
 	 */
 	public Stats withPafBadFragments(Long pafBadFragments) {
 		this.pafBadFragments = pafBadFragments;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -300,6 +314,7 @@ public class Stats {
 	 */
 	public void  setPafLostFragments(Long pafLostFragments) {
 		this.pafLostFragments = pafLostFragments;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -311,6 +326,7 @@ public class Stats {
 	 */
 	public Stats withPafLostFragments(Long pafLostFragments) {
 		this.pafLostFragments = pafLostFragments;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -332,6 +348,7 @@ public class Stats {
 	 */
 	public void  setPafLateFragments(Long pafLateFragments) {
 		this.pafLateFragments = pafLateFragments;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -343,6 +360,7 @@ public class Stats {
 	 */
 	public Stats withPafLateFragments(Long pafLateFragments) {
 		this.pafLateFragments = pafLateFragments;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -364,6 +382,7 @@ public class Stats {
 	 */
 	public void  setPafLostStarts(Long pafLostStarts) {
 		this.pafLostStarts = pafLostStarts;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -375,6 +394,7 @@ public class Stats {
 	 */
 	public Stats withPafLostStarts(Long pafLostStarts) {
 		this.pafLostStarts = pafLostStarts;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -396,6 +416,7 @@ public class Stats {
 	 */
 	public void  setPafLostEnds(Long pafLostEnds) {
 		this.pafLostEnds = pafLostEnds;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -407,6 +428,7 @@ public class Stats {
 	 */
 	public Stats withPafLostEnds(Long pafLostEnds) {
 		this.pafLostEnds = pafLostEnds;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -428,6 +450,7 @@ public class Stats {
 	 */
 	public void  setPafOverflows(Long pafOverflows) {
 		this.pafOverflows = pafOverflows;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -439,6 +462,7 @@ public class Stats {
 	 */
 	public Stats withPafOverflows(Long pafOverflows) {
 		this.pafOverflows = pafOverflows;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -460,6 +484,7 @@ public class Stats {
 	 */
 	public void  setPauseFramesSent(Long pauseFramesSent) {
 		this.pauseFramesSent = pauseFramesSent;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -471,6 +496,7 @@ public class Stats {
 	 */
 	public Stats withPauseFramesSent(Long pauseFramesSent) {
 		this.pauseFramesSent = pauseFramesSent;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -492,6 +518,7 @@ public class Stats {
 	 */
 	public void  setCrcErrorsReceived(Long crcErrorsReceived) {
 		this.crcErrorsReceived = crcErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -503,6 +530,7 @@ public class Stats {
 	 */
 	public Stats withCrcErrorsReceived(Long crcErrorsReceived) {
 		this.crcErrorsReceived = crcErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -524,6 +552,7 @@ public class Stats {
 	 */
 	public void  setAlignmentErrorsReceived(Long alignmentErrorsReceived) {
 		this.alignmentErrorsReceived = alignmentErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -535,6 +564,7 @@ public class Stats {
 	 */
 	public Stats withAlignmentErrorsReceived(Long alignmentErrorsReceived) {
 		this.alignmentErrorsReceived = alignmentErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -556,6 +586,7 @@ public class Stats {
 	 */
 	public void  setShortPacketsReceived(Long shortPacketsReceived) {
 		this.shortPacketsReceived = shortPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -567,6 +598,7 @@ public class Stats {
 	 */
 	public Stats withShortPacketsReceived(Long shortPacketsReceived) {
 		this.shortPacketsReceived = shortPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -588,6 +620,7 @@ public class Stats {
 	 */
 	public void  setLongPacketsReceived(Long longPacketsReceived) {
 		this.longPacketsReceived = longPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -599,6 +632,7 @@ public class Stats {
 	 */
 	public Stats withLongPacketsReceived(Long longPacketsReceived) {
 		this.longPacketsReceived = longPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -620,6 +654,7 @@ public class Stats {
 	 */
 	public void  setOverflowErrorsReceived(Long overflowErrorsReceived) {
 		this.overflowErrorsReceived = overflowErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -631,6 +666,7 @@ public class Stats {
 	 */
 	public Stats withOverflowErrorsReceived(Long overflowErrorsReceived) {
 		this.overflowErrorsReceived = overflowErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -652,6 +688,7 @@ public class Stats {
 	 */
 	public void  setFramesDropped(Long framesDropped) {
 		this.framesDropped = framesDropped;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -663,6 +700,7 @@ public class Stats {
 	 */
 	public Stats withFramesDropped(Long framesDropped) {
 		this.framesDropped = framesDropped;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
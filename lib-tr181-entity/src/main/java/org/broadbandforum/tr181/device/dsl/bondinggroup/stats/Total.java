@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dsl.bondinggroup.stats;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Total statistics for this bonding group.
@@ -121,6 +123,11 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	@XmlElement(name = "UnavailableSeconds")
 	public Long unavailableSeconds;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Total() {
 	}
 
@@ -140,6 +147,21 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 		return failureReasons;
 	}
 
+	/**
+	 * Read the {{list}}  Indicates the failure conditions that have occurred during the accumulation period.  
+
+Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, Other]
+
+          Corresponds to {{bibref|G.998.1|section 11.4.3}} ''Current Group Failure Reason''.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFailureReasons() {
+		return failureReasons == null ? Collections.emptyList() : failureReasons;
+	}
+
 	/**
 	 * Set the {{list}}  Indicates the failure conditions that have occurred during the accumulation period.  
 
@@ -152,6 +174,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setFailureReasons(Collection<String> failureReasons) {
 		this.failureReasons = failureReasons;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -167,6 +190,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withFailureReasons(String string) {
 		getFailureReasons().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -188,6 +212,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setUpstreamRate(Long upstreamRate) {
 		this.upstreamRate = upstreamRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -199,6 +224,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withUpstreamRate(Long upstreamRate) {
 		this.upstreamRate = upstreamRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -220,6 +246,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setDownstreamRate(Long downstreamRate) {
 		this.downstreamRate = downstreamRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -231,6 +258,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withDownstreamRate(Long downstreamRate) {
 		this.downstreamRate = downstreamRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -252,6 +280,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setUpstreamPacketLoss(Long upstreamPacketLoss) {
 		this.upstreamPacketLoss = upstreamPacketLoss;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -263,6 +292,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withUpstreamPacketLoss(Long upstreamPacketLoss) {
 		this.upstreamPacketLoss = upstreamPacketLoss;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -284,6 +314,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setDownstreamPacketLoss(Long downstreamPacketLoss) {
 		this.downstreamPacketLoss = downstreamPacketLoss;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -295,6 +326,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withDownstreamPacketLoss(Long downstreamPacketLoss) {
 		this.downstreamPacketLoss = downstreamPacketLoss;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -316,6 +348,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setUpstreamDifferentialDelay(Long upstreamDifferentialDelay) {
 		this.upstreamDifferentialDelay = upstreamDifferentialDelay;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -327,6 +360,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withUpstreamDifferentialDelay(Long upstreamDifferentialDelay) {
 		this.upstreamDifferentialDelay = upstreamDifferentialDelay;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -348,6 +382,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setDownstreamDifferentialDelay(Long downstreamDifferentialDelay) {
 		this.downstreamDifferentialDelay = downstreamDifferentialDelay;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -359,6 +394,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withDownstreamDifferentialDelay(Long downstreamDifferentialDelay) {
 		this.downstreamDifferentialDelay = downstreamDifferentialDelay;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -380,6 +416,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -391,6 +428,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -412,6 +450,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setErroredSeconds(Long erroredSeconds) {
 		this.erroredSeconds = erroredSeconds;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -423,6 +462,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withErroredSeconds(Long erroredSeconds) {
 		this.erroredSeconds = erroredSeconds;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -444,6 +484,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setSeverelyErroredSeconds(Long severelyErroredSeconds) {
 		this.severelyErroredSeconds = severelyErroredSeconds;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -455,6 +496,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withSeverelyErroredSeconds(Long severelyErroredSeconds) {
 		this.severelyErroredSeconds = severelyErroredSeconds;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -476,6 +518,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public void  setUnavailableSeconds(Long unavailableSeconds) {
 		this.unavailableSeconds = unavailableSeconds;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -487,6 +530,7 @@ Enumerated value must be one of [LowRate, ExcessiveDelay, InsufficientBuffers, O
 	 */
 	public Total withUnavailableSeconds(Long unavailableSeconds) {
 		this.unavailableSeconds = unavailableSeconds;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains DSL channel total statistics {{bibref|G.997.1}}.
@@ -97,6 +98,11 @@ public class Total {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long xtuCCRCErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Total() {
 	}
 
@@ -123,6 +129,7 @@ public class Total {
 	 */
 	public void  setXtuRFECErrors(Long xtuRFECErrors) {
 		this.xtuRFECErrors = xtuRFECErrors;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +143,7 @@ public class Total {
 	 */
 	public Total withXtuRFECErrors(Long xtuRFECErrors) {
 		this.xtuRFECErrors = xtuRFECErrors;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -161,6 +169,7 @@ public class Total {
 	 */
 	public void  setXtuCFECErrors(Long xtuCFECErrors) {
 		this.xtuCFECErrors = xtuCFECErrors;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -174,6 +183,7 @@ public class Total {
 	 */
 	public Total withXtuCFECErrors(Long xtuCFECErrors) {
 		this.xtuCFECErrors = xtuCFECErrors;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +209,7 @@ public class Total {
 	 */
 	public void  setXtuRHECErrors(Long xtuRHECErrors) {
 		this.xtuRHECErrors = xtuRHECErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -212,6 +223,7 @@ public class Total {
 	 */
 	public Total withXtuRHECErrors(Long xtuRHECErrors) {
 		this.xtuRHECErrors = xtuRHECErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -237,6 +249,7 @@ public class Total {
 	 */
 	public void  setXtuCHECErrors(Long xtuCHECErrors) {
 		this.xtuCHECErrors = xtuCHECErrors;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -250,6 +263,7 @@ public class Total {
 	 */
 	public Total withXtuCHECErrors(Long xtuCHECErrors) {
 		this.xtuCHECErrors = xtuCHECErrors;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -275,6 +289,7 @@ public class Total {
 	 */
 	public void  setXtuRCRCErrors(Long xtuRCRCErrors) {
 		this.xtuRCRCErrors = xtuRCRCErrors;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -288,6 +303,7 @@ public class Total {
 	 */
 	public Total withXtuRCRCErrors(Long xtuRCRCErrors) {
 		this.xtuRCRCErrors = xtuRCRCErrors;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -313,6 +329,7 @@ public class Total {
 	 */
 	public void  setXtuCCRCErrors(Long xtuCCRCErrors) {
 		this.xtuCCRCErrors = xtuCCRCErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -326,6 +343,7 @@ public class Total {
 	 */
 	public Total withXtuCCRCErrors(Long xtuCCRCErrors) {
 		this.xtuCCRCErrors = xtuCCRCErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
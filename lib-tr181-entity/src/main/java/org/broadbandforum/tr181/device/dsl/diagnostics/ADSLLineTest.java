@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dsl.diagnostics;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,7 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is to provide diagnostic information for a CPE with an ADSL2 or ADSL2+ modem WAN interface, but MAY also be used for ADSL.
@@ -429,6 +431,11 @@ public class ADSLLineTest {
 	@XmlList
 	public Collection<String> bitSpsus;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ADSLLineTest() {
 	}
 
@@ -451,6 +458,7 @@ public class ADSLLineTest {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -462,6 +470,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -483,6 +492,7 @@ public class ADSLLineTest {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -494,6 +504,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -519,6 +530,7 @@ public class ADSLLineTest {
 	 */
 	public void  setActPSDds(Integer actPSDds) {
 		this.actPSDds = actPSDds;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -532,6 +544,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withActPSDds(Integer actPSDds) {
 		this.actPSDds = actPSDds;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -557,6 +570,7 @@ public class ADSLLineTest {
 	 */
 	public void  setActPSDus(Integer actPSDus) {
 		this.actPSDus = actPSDus;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -570,6 +584,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withActPSDus(Integer actPSDus) {
 		this.actPSDus = actPSDus;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -595,6 +610,7 @@ public class ADSLLineTest {
 	 */
 	public void  setActATPds(Integer actATPds) {
 		this.actATPds = actATPds;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -608,6 +624,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withActATPds(Integer actATPds) {
 		this.actATPds = actATPds;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -633,6 +650,7 @@ public class ADSLLineTest {
 	 */
 	public void  setActATPus(Integer actATPus) {
 		this.actATPus = actATPus;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -646,6 +664,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withActATPus(Integer actATPus) {
 		this.actATPus = actATPus;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -671,6 +690,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHliNSCds(Integer hliNSCds) {
 		this.hliNSCds = hliNSCds;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -684,6 +704,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHliNSCds(Integer hliNSCds) {
 		this.hliNSCds = hliNSCds;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -709,6 +730,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHliNSCus(Integer hliNSCus) {
 		this.hliNSCus = hliNSCus;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -722,6 +744,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHliNSCus(Integer hliNSCus) {
 		this.hliNSCus = hliNSCus;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -747,6 +770,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHliNGds(Long hliNGds) {
 		this.hliNGds = hliNGds;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -760,6 +784,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHliNGds(Long hliNGds) {
 		this.hliNGds = hliNGds;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -785,6 +810,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHliNGus(Long hliNGus) {
 		this.hliNGus = hliNGus;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -798,6 +824,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHliNGus(Long hliNGus) {
 		this.hliNGus = hliNGus;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -823,6 +850,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHloGGds(Long hloGGds) {
 		this.hloGGds = hloGGds;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -836,6 +864,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHloGGds(Long hloGGds) {
 		this.hloGGds = hloGGds;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -861,6 +890,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHloGGus(Long hloGGus) {
 		this.hloGGus = hloGGus;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -874,6 +904,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHloGGus(Long hloGGus) {
 		this.hloGGus = hloGGus;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -892,6 +923,21 @@ public class ADSLLineTest {
 		return hloGpsds;
 	}
 
+	/**
+	 * Read the {{list}} List items represent downstream logarithmic channel characteristics per sub-carrier group.  The maximum  number of elements is 256 for G.992.3, and 512 for G.992.5.  For G.993.2, the number of elements will depend on the value of  {{param|HLOGGds}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.
+
+          Note: {{param}} is measured during initialization and is not updated during Showtime.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHloGpsds() {
+		return hloGpsds == null ? Collections.emptyList() : hloGpsds;
+	}
+
 	/**
 	 * Set the {{list}} List items represent downstream logarithmic channel characteristics per sub-carrier group.  The maximum  number of elements is 256 for G.992.3, and 512 for G.992.5.  For G.993.2, the number of elements will depend on the value of  {{param|HLOGGds}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -904,6 +950,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHloGpsds(Collection<String> hloGpsds) {
 		this.hloGpsds = hloGpsds;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -919,6 +966,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHloGpsds(String string) {
 		getHloGpsds().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -937,6 +985,21 @@ public class ADSLLineTest {
 		return hloGpsus;
 	}
 
+	/**
+	 * Read the {{list}} List items represent upstream logarithmic channel characteristics per sub-carrier group.  The maximum number of elements is 64 for G.992.3 and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|HLOGGus}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.  
+
+          Note: {{param}} is measured during initialization and is not updated during Showtime.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHloGpsus() {
+		return hloGpsus == null ? Collections.emptyList() : hloGpsus;
+	}
+
 	/**
 	 * Set the {{list}} List items represent upstream logarithmic channel characteristics per sub-carrier group.  The maximum number of elements is 64 for G.992.3 and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|HLOGGus}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -949,6 +1012,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHloGpsus(Collection<String> hloGpsus) {
 		this.hloGpsus = hloGpsus;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -964,6 +1028,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHloGpsus(String string) {
 		getHloGpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -989,6 +1054,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHloGMTds(Long hloGMTds) {
 		this.hloGMTds = hloGMTds;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1002,6 +1068,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHloGMTds(Long hloGMTds) {
 		this.hloGMTds = hloGMTds;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1027,6 +1094,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHloGMTus(Long hloGMTus) {
 		this.hloGMTus = hloGMTus;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1040,6 +1108,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHloGMTus(Long hloGMTus) {
 		this.hloGMTus = hloGMTus;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1056,6 +1125,19 @@ public class ADSLLineTest {
 		return latNpbds;
 	}
 
+	/**
+	 * Read the {{list}} List items represent downstream line attenuation per usable band, as computed during initialization.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2. Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLatNpbds() {
+		return latNpbds == null ? Collections.emptyList() : latNpbds;
+	}
+
 	/**
 	 * Set the {{list}} List items represent downstream line attenuation per usable band, as computed during initialization.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2. Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1066,6 +1148,7 @@ public class ADSLLineTest {
 	 */
 	public void  setLatNpbds(Collection<String> latNpbds) {
 		this.latNpbds = latNpbds;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1079,6 +1162,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withLatNpbds(String string) {
 		getLatNpbds().add(string);
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1095,6 +1179,19 @@ public class ADSLLineTest {
 		return latNpbus;
 	}
 
+	/**
+	 * Read the {{list}} List items represent upstream line attenuation per usable band, as computed during initialization.  Number of elements is dependent on the number of upstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLatNpbus() {
+		return latNpbus == null ? Collections.emptyList() : latNpbus;
+	}
+
 	/**
 	 * Set the {{list}} List items represent upstream line attenuation per usable band, as computed during initialization.  Number of elements is dependent on the number of upstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1105,6 +1202,7 @@ public class ADSLLineTest {
 	 */
 	public void  setLatNpbus(Collection<String> latNpbus) {
 		this.latNpbus = latNpbus;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1118,6 +1216,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withLatNpbus(String string) {
 		getLatNpbus().add(string);
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1134,6 +1233,19 @@ public class ADSLLineTest {
 		return satNds;
 	}
 
+	/**
+	 * Read the {{list}} List items represent downstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime) state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSatNds() {
+		return satNds == null ? Collections.emptyList() : satNds;
+	}
+
 	/**
 	 * Set the {{list}} List items represent downstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime) state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1144,6 +1256,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSatNds(Collection<String> satNds) {
 		this.satNds = satNds;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1157,6 +1270,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSatNds(String string) {
 		getSatNds().add(string);
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1173,6 +1287,19 @@ public class ADSLLineTest {
 		return satNus;
 	}
 
+	/**
+	 * Read the {{list}} List items represent upstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime) state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSatNus() {
+		return satNus == null ? Collections.emptyList() : satNus;
+	}
+
 	/**
 	 * Set the {{list}} List items represent upstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime) state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1183,6 +1310,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSatNus(Collection<String> satNus) {
 		this.satNus = satNus;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1196,6 +1324,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSatNus(String string) {
 		getSatNus().add(string);
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1225,6 +1354,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHliNpsds(Integer hliNpsds) {
 		this.hliNpsds = hliNpsds;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1240,6 +1370,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHliNpsds(Integer hliNpsds) {
 		this.hliNpsds = hliNpsds;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1258,6 +1389,21 @@ public class ADSLLineTest {
 		return hliNpsus;
 	}
 
+	/**
+	 * Read the {{list}} List items represent upstream linear channel characteristics per sub-carrier group.  Maximum number of  complex pairs is 64 for G.992.3, and G.992.5.  For G.993.2, the number of pairs will depend on the value of {{param|HLINGus}} but  will not exceed 512.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  HLIN is not applicable in PLOAM for G.992.1 or G.992.2.  
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHliNpsus() {
+		return hliNpsus == null ? Collections.emptyList() : hliNpsus;
+	}
+
 	/**
 	 * Set the {{list}} List items represent upstream linear channel characteristics per sub-carrier group.  Maximum number of  complex pairs is 64 for G.992.3, and G.992.5.  For G.993.2, the number of pairs will depend on the value of {{param|HLINGus}} but  will not exceed 512.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -1270,6 +1416,7 @@ public class ADSLLineTest {
 	 */
 	public void  setHliNpsus(Collection<String> hliNpsus) {
 		this.hliNpsus = hliNpsus;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1285,6 +1432,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withHliNpsus(String string) {
 		getHliNpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1310,6 +1458,7 @@ public class ADSLLineTest {
 	 */
 	public void  setQlnGds(Long qlnGds) {
 		this.qlnGds = qlnGds;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1323,6 +1472,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withQlnGds(Long qlnGds) {
 		this.qlnGds = qlnGds;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1348,6 +1498,7 @@ public class ADSLLineTest {
 	 */
 	public void  setQlnGus(Long qlnGus) {
 		this.qlnGus = qlnGus;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1361,6 +1512,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withQlnGus(Long qlnGus) {
 		this.qlnGus = qlnGus;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1390,6 +1542,7 @@ public class ADSLLineTest {
 	 */
 	public void  setQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1405,6 +1558,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1423,6 +1577,21 @@ public class ADSLLineTest {
 		return qlnpsus;
 	}
 
+	/**
+	 * Read the {{list}} List items represent upstream quiet line noise per subcarrier group.  The maximum number of elements is  64 for G.992.3, and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|QLNGus}} but will not exceed  512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  QLN is not applicable in PLOAM for G.992.1 or G.992.2. 
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQlnpsus() {
+		return qlnpsus == null ? Collections.emptyList() : qlnpsus;
+	}
+
 	/**
 	 * Set the {{list}} List items represent upstream quiet line noise per subcarrier group.  The maximum number of elements is  64 for G.992.3, and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|QLNGus}} but will not exceed  512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -1435,6 +1604,7 @@ public class ADSLLineTest {
 	 */
 	public void  setQlnpsus(Collection<String> qlnpsus) {
 		this.qlnpsus = qlnpsus;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1450,6 +1620,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withQlnpsus(String string) {
 		getQlnpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1475,6 +1646,7 @@ public class ADSLLineTest {
 	 */
 	public void  setQlnMTds(Long qlnMTds) {
 		this.qlnMTds = qlnMTds;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1488,6 +1660,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withQlnMTds(Long qlnMTds) {
 		this.qlnMTds = qlnMTds;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1513,6 +1686,7 @@ public class ADSLLineTest {
 	 */
 	public void  setQlnMTus(Long qlnMTus) {
 		this.qlnMTus = qlnMTus;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1526,6 +1700,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withQlnMTus(Long qlnMTus) {
 		this.qlnMTus = qlnMTus;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1551,6 +1726,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSnrGds(Long snrGds) {
 		this.snrGds = snrGds;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1564,6 +1740,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSnrGds(Long snrGds) {
 		this.snrGds = snrGds;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1589,6 +1766,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSnrGus(Long snrGus) {
 		this.snrGus = snrGus;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1602,6 +1780,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSnrGus(Long snrGus) {
 		this.snrGus = snrGus;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1631,6 +1810,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1646,6 +1826,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1664,6 +1845,21 @@ public class ADSLLineTest {
 		return snrpsus;
 	}
 
+	/**
+	 * Read the {{list}} List items represent upstream SNR per subcarrier group.  The maximum number of elements is 64 for  G.992.3, and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|SNRGus}} but will not exceed 512.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  SNRps is not applicable in PLOAM for G.992.1 or G.992.2. 
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSnrpsus() {
+		return snrpsus == null ? Collections.emptyList() : snrpsus;
+	}
+
 	/**
 	 * Set the {{list}} List items represent upstream SNR per subcarrier group.  The maximum number of elements is 64 for  G.992.3, and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|SNRGus}} but will not exceed 512.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -1676,6 +1872,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSnrpsus(Collection<String> snrpsus) {
 		this.snrpsus = snrpsus;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1691,6 +1888,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSnrpsus(String string) {
 		getSnrpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1716,6 +1914,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSnrMTds(Long snrMTds) {
 		this.snrMTds = snrMTds;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1729,6 +1928,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSnrMTds(Long snrMTds) {
 		this.snrMTds = snrMTds;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1754,6 +1954,7 @@ public class ADSLLineTest {
 	 */
 	public void  setSnrMTus(Long snrMTus) {
 		this.snrMTus = snrMTus;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -1767,6 +1968,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withSnrMTus(Long snrMTus) {
 		this.snrMTus = snrMTus;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -1788,6 +1990,7 @@ public class ADSLLineTest {
 	 */
 	public void  setBitSpsds(Integer bitSpsds) {
 		this.bitSpsds = bitSpsds;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -1799,6 +2002,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withBitSpsds(Integer bitSpsds) {
 		this.bitSpsds = bitSpsds;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -1813,6 +2017,17 @@ public class ADSLLineTest {
 		return bitSpsus;
 	}
 
+	/**
+	 * Read the {{list}} List items represent upstream bit allocation per subcarrier group.  Maximum number of elements is 256 for G.992.3, 512 for G.992.5.  Interpretation of the value is as defined in ITU-T Rec. {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBitSpsus() {
+		return bitSpsus == null ? Collections.emptyList() : bitSpsus;
+	}
+
 	/**
 	 * Set the {{list}} List items represent upstream bit allocation per subcarrier group.  Maximum number of elements is 256 for G.992.3, 512 for G.992.5.  Interpretation of the value is as defined in ITU-T Rec. {{bibref|G.997.1}}.
 	 *
@@ -1821,6 +2036,7 @@ public class ADSLLineTest {
 	 */
 	public void  setBitSpsus(Collection<String> bitSpsus) {
 		this.bitSpsus = bitSpsus;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -1832,6 +2048,7 @@ public class ADSLLineTest {
 	 */
 	public ADSLLineTest withBitSpsus(String string) {
 		getBitSpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
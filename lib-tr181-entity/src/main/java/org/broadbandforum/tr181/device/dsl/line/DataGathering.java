@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object models the DSL data gathering function at the VTU-R. This only applies to VDSL2.
@@ -69,6 +70,11 @@ public class DataGathering {
 	@Size(max = 256)
 	public String eventTraceBufferR;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DataGathering() {
 	}
 
@@ -95,6 +101,7 @@ public class DataGathering {
 	 */
 	public void  setLoggingDepthR(Long loggingDepthR) {
 		this.loggingDepthR = loggingDepthR;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +115,7 @@ public class DataGathering {
 	 */
 	public DataGathering withLoggingDepthR(Long loggingDepthR) {
 		this.loggingDepthR = loggingDepthR;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +141,7 @@ public class DataGathering {
 	 */
 	public void  setActLoggingDepthReportingR(Long actLoggingDepthReportingR) {
 		this.actLoggingDepthReportingR = actLoggingDepthReportingR;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -146,6 +155,7 @@ public class DataGathering {
 	 */
 	public DataGathering withActLoggingDepthReportingR(Long actLoggingDepthReportingR) {
 		this.actLoggingDepthReportingR = actLoggingDepthReportingR;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -179,6 +189,7 @@ public class DataGathering {
 	 */
 	public void  setEventTraceBufferR(String eventTraceBufferR) {
 		this.eventTraceBufferR = eventTraceBufferR;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -196,6 +207,7 @@ public class DataGathering {
 	 */
 	public DataGathering withEventTraceBufferR(String eventTraceBufferR) {
 		this.eventTraceBufferR = eventTraceBufferR;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.dsl.line.stats.CurrentDay;
 import org.broadbandforum.tr181.device.dsl.line.stats.LastShowtime;
 import org.broadbandforum.tr181.device.dsl.line.stats.QuarterHour;
@@ -205,6 +206,11 @@ public class Stats {
 	@XmlElement(name = "QuarterHour")
 	public QuarterHour quarterHour;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -227,6 +233,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -238,6 +245,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -259,6 +267,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -270,6 +279,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -291,6 +301,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -302,6 +313,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -323,6 +335,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -334,6 +347,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -355,6 +369,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -366,6 +381,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -387,6 +403,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -398,6 +415,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -419,6 +437,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -430,6 +449,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -451,6 +471,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -462,6 +483,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -491,6 +513,7 @@ public class Stats {
 	 */
 	public void  setTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -506,6 +529,7 @@ public class Stats {
 	 */
 	public Stats withTotalStart(Long totalStart) {
 		this.totalStart = totalStart;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -535,6 +559,7 @@ public class Stats {
 	 */
 	public void  setShowtimeStart(Long showtimeStart) {
 		this.showtimeStart = showtimeStart;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -550,6 +575,7 @@ public class Stats {
 	 */
 	public Stats withShowtimeStart(Long showtimeStart) {
 		this.showtimeStart = showtimeStart;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -579,6 +605,7 @@ public class Stats {
 	 */
 	public void  setLastShowtimeStart(Long lastShowtimeStart) {
 		this.lastShowtimeStart = lastShowtimeStart;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -594,6 +621,7 @@ public class Stats {
 	 */
 	public Stats withLastShowtimeStart(Long lastShowtimeStart) {
 		this.lastShowtimeStart = lastShowtimeStart;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -627,6 +655,7 @@ public class Stats {
 	 */
 	public void  setCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -644,6 +673,7 @@ public class Stats {
 	 */
 	public Stats withCurrentDayStart(Long currentDayStart) {
 		this.currentDayStart = currentDayStart;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -677,6 +707,7 @@ public class Stats {
 	 */
 	public void  setQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -694,6 +725,7 @@ public class Stats {
 	 */
 	public Stats withQuarterHourStart(Long quarterHourStart) {
 		this.quarterHourStart = quarterHourStart;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dsl.line;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains the DSL line test parameters that are available during the L0 (i.e., Showtime)  state.
@@ -287,6 +289,11 @@ public class TestParams {
 	@XmlList
 	public Collection<String> satNus;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TestParams() {
 	}
 
@@ -313,6 +320,7 @@ public class TestParams {
 	 */
 	public void  setHloGGds(Long hloGGds) {
 		this.hloGGds = hloGGds;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -326,6 +334,7 @@ public class TestParams {
 	 */
 	public TestParams withHloGGds(Long hloGGds) {
 		this.hloGGds = hloGGds;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -351,6 +360,7 @@ public class TestParams {
 	 */
 	public void  setHloGGus(Long hloGGus) {
 		this.hloGGus = hloGGus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -364,6 +374,7 @@ public class TestParams {
 	 */
 	public TestParams withHloGGus(Long hloGGus) {
 		this.hloGGus = hloGGus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -382,6 +393,21 @@ public class TestParams {
 		return hloGpsds;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the downstream logarithmic line characteristics per sub-carrier group.  The maximum number of elements is 256 for G.992.3, and 512 for G.992.5.  For G.993.2, the number of elements will depend on the value of  {{param|HLOGGds}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''. 
+
+          Note: {{param}} is measured during initialization and is not updated during Showtime.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHloGpsds() {
+		return hloGpsds == null ? Collections.emptyList() : hloGpsds;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the downstream logarithmic line characteristics per sub-carrier group.  The maximum number of elements is 256 for G.992.3, and 512 for G.992.5.  For G.993.2, the number of elements will depend on the value of  {{param|HLOGGds}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -394,6 +420,7 @@ public class TestParams {
 	 */
 	public void  setHloGpsds(Collection<String> hloGpsds) {
 		this.hloGpsds = hloGpsds;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -409,6 +436,7 @@ public class TestParams {
 	 */
 	public TestParams withHloGpsds(String string) {
 		getHloGpsds().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -427,6 +455,21 @@ public class TestParams {
 		return hloGpsus;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the upstream logarithmic line characteristics per sub-carrier group.  The maximum number of elements is 64 for G.992.3 and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|HLOGGus}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1. 
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.
+
+          Note: {{param}} is measured during initialization and is not updated during Showtime.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHloGpsus() {
+		return hloGpsus == null ? Collections.emptyList() : hloGpsus;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the upstream logarithmic line characteristics per sub-carrier group.  The maximum number of elements is 64 for G.992.3 and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|HLOGGus}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1. 
 
@@ -439,6 +482,7 @@ public class TestParams {
 	 */
 	public void  setHloGpsus(Collection<String> hloGpsus) {
 		this.hloGpsus = hloGpsus;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -454,6 +498,7 @@ public class TestParams {
 	 */
 	public TestParams withHloGpsus(String string) {
 		getHloGpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -479,6 +524,7 @@ public class TestParams {
 	 */
 	public void  setHloGMTds(Long hloGMTds) {
 		this.hloGMTds = hloGMTds;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -492,6 +538,7 @@ public class TestParams {
 	 */
 	public TestParams withHloGMTds(Long hloGMTds) {
 		this.hloGMTds = hloGMTds;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -517,6 +564,7 @@ public class TestParams {
 	 */
 	public void  setHloGMTus(Long hloGMTus) {
 		this.hloGMTus = hloGMTus;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -530,6 +578,7 @@ public class TestParams {
 	 */
 	public TestParams withHloGMTus(Long hloGMTus) {
 		this.hloGMTus = hloGMTus;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -555,6 +604,7 @@ public class TestParams {
 	 */
 	public void  setQlnGds(Long qlnGds) {
 		this.qlnGds = qlnGds;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -568,6 +618,7 @@ public class TestParams {
 	 */
 	public TestParams withQlnGds(Long qlnGds) {
 		this.qlnGds = qlnGds;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -593,6 +644,7 @@ public class TestParams {
 	 */
 	public void  setQlnGus(Long qlnGus) {
 		this.qlnGus = qlnGus;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -606,6 +658,7 @@ public class TestParams {
 	 */
 	public TestParams withQlnGus(Long qlnGus) {
 		this.qlnGus = qlnGus;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -635,6 +688,7 @@ public class TestParams {
 	 */
 	public void  setQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -650,6 +704,7 @@ public class TestParams {
 	 */
 	public TestParams withQlnpsds(Integer qlnpsds) {
 		this.qlnpsds = qlnpsds;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -668,6 +723,21 @@ public class TestParams {
 		return qlnpsus;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the upstream quiet line noise per subcarrier group.  The maximum number of elements is 64 for  G.992.3 and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|QLNGus}} but will not exceed 512.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.
+
+          Note: {{param}} is measured during initialization and is not updated during Showtime.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQlnpsus() {
+		return qlnpsus == null ? Collections.emptyList() : qlnpsus;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the upstream quiet line noise per subcarrier group.  The maximum number of elements is 64 for  G.992.3 and G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|QLNGus}} but will not exceed 512.  Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -680,6 +750,7 @@ public class TestParams {
 	 */
 	public void  setQlnpsus(Collection<String> qlnpsus) {
 		this.qlnpsus = qlnpsus;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -695,6 +766,7 @@ public class TestParams {
 	 */
 	public TestParams withQlnpsus(String string) {
 		getQlnpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -720,6 +792,7 @@ public class TestParams {
 	 */
 	public void  setQlnMTds(Long qlnMTds) {
 		this.qlnMTds = qlnMTds;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -733,6 +806,7 @@ public class TestParams {
 	 */
 	public TestParams withQlnMTds(Long qlnMTds) {
 		this.qlnMTds = qlnMTds;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -758,6 +832,7 @@ public class TestParams {
 	 */
 	public void  setQlnMTus(Long qlnMTus) {
 		this.qlnMTus = qlnMTus;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -771,6 +846,7 @@ public class TestParams {
 	 */
 	public TestParams withQlnMTus(Long qlnMTus) {
 		this.qlnMTus = qlnMTus;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -796,6 +872,7 @@ public class TestParams {
 	 */
 	public void  setSnrGds(Long snrGds) {
 		this.snrGds = snrGds;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -809,6 +886,7 @@ public class TestParams {
 	 */
 	public TestParams withSnrGds(Long snrGds) {
 		this.snrGds = snrGds;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -834,6 +912,7 @@ public class TestParams {
 	 */
 	public void  setSnrGus(Long snrGus) {
 		this.snrGus = snrGus;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -847,6 +926,7 @@ public class TestParams {
 	 */
 	public TestParams withSnrGus(Long snrGus) {
 		this.snrGus = snrGus;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -876,6 +956,7 @@ public class TestParams {
 	 */
 	public void  setSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -891,6 +972,7 @@ public class TestParams {
 	 */
 	public TestParams withSnrpsds(Integer snrpsds) {
 		this.snrpsds = snrpsds;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -909,6 +991,21 @@ public class TestParams {
 		return snrpsus;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the upstream SNR per subcarrier group.  The maximum number of elements is 64 for G.992.3 and  G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|SNRGus}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}. For a multimode device operating in a mode in which this parameter does not apply, the value  of this parameter SHOULD be set to ''None''.   
+
+          Note: {{param}} is first measured during initialization and is updated during Showtime.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSnrpsus() {
+		return snrpsus == null ? Collections.emptyList() : snrpsus;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the upstream SNR per subcarrier group.  The maximum number of elements is 64 for G.992.3 and  G.992.5.  For G.993.2, the number of elements will depend on the value of {{param|SNRGus}} but will not exceed 512. Interpretation of the values is as defined in ITU-T Rec. G.997.1.
 
@@ -921,6 +1018,7 @@ public class TestParams {
 	 */
 	public void  setSnrpsus(Collection<String> snrpsus) {
 		this.snrpsus = snrpsus;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -936,6 +1034,7 @@ public class TestParams {
 	 */
 	public TestParams withSnrpsus(String string) {
 		getSnrpsus().add(string);
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -961,6 +1060,7 @@ public class TestParams {
 	 */
 	public void  setSnrMTds(Long snrMTds) {
 		this.snrMTds = snrMTds;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -974,6 +1074,7 @@ public class TestParams {
 	 */
 	public TestParams withSnrMTds(Long snrMTds) {
 		this.snrMTds = snrMTds;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -999,6 +1100,7 @@ public class TestParams {
 	 */
 	public void  setSnrMTus(Long snrMTus) {
 		this.snrMTus = snrMTus;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1012,6 +1114,7 @@ public class TestParams {
 	 */
 	public TestParams withSnrMTus(Long snrMTus) {
 		this.snrMTus = snrMTus;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1028,6 +1131,19 @@ public class TestParams {
 		return latNds;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the downstream line attenuation per usable band, as computed during initialization.  Number  of elements is dependent on the number of downstream bands but will exceed one only for G.993.2. Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLatNds() {
+		return latNds == null ? Collections.emptyList() : latNds;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the downstream line attenuation per usable band, as computed during initialization.  Number  of elements is dependent on the number of downstream bands but will exceed one only for G.993.2. Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1038,6 +1154,7 @@ public class TestParams {
 	 */
 	public void  setLatNds(Collection<String> latNds) {
 		this.latNds = latNds;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1051,6 +1168,7 @@ public class TestParams {
 	 */
 	public TestParams withLatNds(String string) {
 		getLatNds().add(string);
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1067,6 +1185,19 @@ public class TestParams {
 		return latNus;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the upstream line attenuation per usable band, as computed during initialization.  Number of  elements is dependent on the number of upstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLatNus() {
+		return latNus == null ? Collections.emptyList() : latNus;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the upstream line attenuation per usable band, as computed during initialization.  Number of  elements is dependent on the number of upstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1077,6 +1208,7 @@ public class TestParams {
 	 */
 	public void  setLatNus(Collection<String> latNus) {
 		this.latNus = latNus;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1090,6 +1222,7 @@ public class TestParams {
 	 */
 	public TestParams withLatNus(String string) {
 		getLatNus().add(string);
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1106,6 +1239,19 @@ public class TestParams {
 		return satNds;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the downstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime)  state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of  {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSatNds() {
+		return satNds == null ? Collections.emptyList() : satNds;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the downstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime)  state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of  {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1116,6 +1262,7 @@ public class TestParams {
 	 */
 	public void  setSatNds(Collection<String> satNds) {
 		this.satNds = satNds;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1129,6 +1276,7 @@ public class TestParams {
 	 */
 	public TestParams withSatNds(String string) {
 		getSatNds().add(string);
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1145,6 +1293,19 @@ public class TestParams {
 		return satNus;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the upstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime) state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
+
+          Note:  See ITU-T Recommendation {{bibref|G.997.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSatNus() {
+		return satNus == null ? Collections.emptyList() : satNus;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the upstream signal attenuation per usable band, as computed during the L0 (i.e., Showtime) state.  Number of elements is dependent on the number of downstream bands but will exceed one only for G.993.2.  Interpretation of {{param}} is as defined in ITU-T Rec. G.997.1.
 
@@ -1155,6 +1316,7 @@ public class TestParams {
 	 */
 	public void  setSatNus(Collection<String> satNus) {
 		this.satNus = satNus;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1168,6 +1330,7 @@ public class TestParams {
 	 */
 	public TestParams withSatNus(String string) {
 		getSatNus().add(string);
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
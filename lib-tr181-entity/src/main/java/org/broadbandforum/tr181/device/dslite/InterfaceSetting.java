@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Address;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * DSLite {{bibref|DSLite}} settings.
@@ -143,6 +145,16 @@ public class InterfaceSetting {
 	@Size(max = 256)
 	public String tunneledInterface;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterfaceSetting() {
 	}
 
@@ -165,6 +177,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -176,6 +189,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -201,6 +215,7 @@ public class InterfaceSetting {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -214,6 +229,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -235,6 +251,8 @@ public class InterfaceSetting {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -246,6 +264,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -267,6 +287,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEndpointAssignmentPrecedence(String endpointAssignmentPrecedence) {
 		this.endpointAssignmentPrecedence = endpointAssignmentPrecedence;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -278,6 +299,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEndpointAssignmentPrecedence(String endpointAssignmentPrecedence) {
 		this.endpointAssignmentPrecedence = endpointAssignmentPrecedence;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -299,6 +321,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEndpointAddressTypePrecedence(String endpointAddressTypePrecedence) {
 		this.endpointAddressTypePrecedence = endpointAddressTypePrecedence;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -310,6 +333,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEndpointAddressTypePrecedence(String endpointAddressTypePrecedence) {
 		this.endpointAddressTypePrecedence = endpointAddressTypePrecedence;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -335,6 +359,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEndpointAddressInUse(IPv6Address endpointAddressInUse) {
 		this.endpointAddressInUse = endpointAddressInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -348,6 +373,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEndpointAddressInUse(IPv6Address endpointAddressInUse) {
 		this.endpointAddressInUse = endpointAddressInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -377,6 +403,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEndpointName(String endpointName) {
 		this.endpointName = endpointName;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -392,6 +419,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEndpointName(String endpointName) {
 		this.endpointName = endpointName;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -417,6 +445,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEndpointAddress(IPv6Address endpointAddress) {
 		this.endpointAddress = endpointAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -430,6 +459,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEndpointAddress(IPv6Address endpointAddress) {
 		this.endpointAddress = endpointAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -451,6 +481,7 @@ public class InterfaceSetting {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -462,6 +493,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -491,6 +523,7 @@ public class InterfaceSetting {
 	 */
 	public void  setTunnelInterface(String tunnelInterface) {
 		this.tunnelInterface = tunnelInterface;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -506,6 +539,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withTunnelInterface(String tunnelInterface) {
 		this.tunnelInterface = tunnelInterface;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -535,6 +569,7 @@ public class InterfaceSetting {
 	 */
 	public void  setTunneledInterface(String tunneledInterface) {
 		this.tunneledInterface = tunneledInterface;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -550,6 +585,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withTunneledInterface(String tunneledInterface) {
 		this.tunneledInterface = tunneledInterface;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
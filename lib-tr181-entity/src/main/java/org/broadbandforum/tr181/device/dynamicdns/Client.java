@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.dynamicdns;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.dynamicdns.client.Hostname;
 
 	/**
@@ -128,6 +130,16 @@ public class Client {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Hostname> hostnames;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -150,6 +162,7 @@ public class Client {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -161,6 +174,7 @@ public class Client {
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -182,6 +196,7 @@ public class Client {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -193,6 +208,7 @@ public class Client {
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -214,6 +230,8 @@ public class Client {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -225,6 +243,8 @@ public class Client {
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -250,6 +270,7 @@ public class Client {
 	 */
 	public void  setLastError(String lastError) {
 		this.lastError = lastError;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -263,6 +284,7 @@ public class Client {
 	 */
 	public Client withLastError(String lastError) {
 		this.lastError = lastError;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -288,6 +310,8 @@ public class Client {
 	 */
 	public void  setServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -301,6 +325,8 @@ public class Client {
 	 */
 	public Client withServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -330,6 +356,7 @@ public class Client {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -345,6 +372,7 @@ public class Client {
 	 */
 	public Client with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -366,6 +394,8 @@ public class Client {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -377,6 +407,8 @@ public class Client {
 	 */
 	public Client withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -398,6 +430,7 @@ public class Client {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -409,6 +442,7 @@ public class Client {
 	 */
 	public Client withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -418,10 +452,20 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<Hostname> getHostnames() {
-		if (this.hostnames == null){ this.hostnames=new ArrayList<>();}
+		if (!(this.hostnames instanceof InstanceTable)){ this.hostnames=InstanceTable.of(this.hostnames);}
 		return hostnames;
 	}
 
+	/**
+	 * Read the each table entry represents a fully qualified domain name updated by this Dynamic DNS Client.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Hostname> viewHostnames() {
+		return hostnames == null ? Collections.emptyList() : hostnames;
+	}
+
 	/**
 	 * Set the each table entry represents a fully qualified domain name updated by this Dynamic DNS Client.
 	 *
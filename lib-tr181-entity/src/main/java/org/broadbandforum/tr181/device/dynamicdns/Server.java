@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.dynamicdns;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table of Dynamic DNS servers available for this CPE.
@@ -141,6 +144,16 @@ public class Server {
 	@CWMPParameter(access = "readWrite")
 	public Long maxRetries;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Server() {
 	}
 
@@ -163,6 +176,7 @@ public class Server {
 	 */
 	public void  setEnable(String enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -174,6 +188,7 @@ public class Server {
 	 */
 	public Server withEnable(String enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -195,6 +210,8 @@ public class Server {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -206,6 +223,8 @@ public class Server {
 	 */
 	public Server withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -227,6 +246,8 @@ public class Server {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -238,6 +259,8 @@ public class Server {
 	 */
 	public Server withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -263,6 +286,7 @@ public class Server {
 	 */
 	public void  setServiceName(String serviceName) {
 		this.serviceName = serviceName;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -276,6 +300,7 @@ public class Server {
 	 */
 	public Server withServiceName(String serviceName) {
 		this.serviceName = serviceName;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -297,6 +322,7 @@ public class Server {
 	 */
 	public void  setServerAddress(String serverAddress) {
 		this.serverAddress = serverAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -308,6 +334,7 @@ public class Server {
 	 */
 	public Server withServerAddress(String serverAddress) {
 		this.serverAddress = serverAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -329,6 +356,7 @@ public class Server {
 	 */
 	public void  setServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -340,6 +368,7 @@ public class Server {
 	 */
 	public Server withServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -354,6 +383,17 @@ public class Server {
 		return supportedProtocols;
 	}
 
+	/**
+	 * Read the indicates the protocols that are supported by the CPE for sending requests to the Dynamic DNS server. {{list}} This list depends on the Dynamic DNS service defined by the {{param|ServiceName}} parameter.
+	 *
+	 * @since 2.10
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedProtocols() {
+		return supportedProtocols == null ? Collections.emptyList() : supportedProtocols;
+	}
+
 	/**
 	 * Set the indicates the protocols that are supported by the CPE for sending requests to the Dynamic DNS server. {{list}} This list depends on the Dynamic DNS service defined by the {{param|ServiceName}} parameter.
 	 *
@@ -362,6 +402,7 @@ public class Server {
 	 */
 	public void  setSupportedProtocols(Collection<String> supportedProtocols) {
 		this.supportedProtocols = supportedProtocols;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -373,6 +414,7 @@ public class Server {
 	 */
 	public Server withSupportedProtocols(String string) {
 		getSupportedProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -394,6 +436,7 @@ public class Server {
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -405,6 +448,7 @@ public class Server {
 	 */
 	public Server withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -430,6 +474,7 @@ public class Server {
 	 */
 	public void  setCheckInterval(Long checkInterval) {
 		this.checkInterval = checkInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -443,6 +488,7 @@ public class Server {
 	 */
 	public Server withCheckInterval(Long checkInterval) {
 		this.checkInterval = checkInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -464,6 +510,7 @@ public class Server {
 	 */
 	public void  setRetryInterval(Long retryInterval) {
 		this.retryInterval = retryInterval;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -475,6 +522,7 @@ public class Server {
 	 */
 	public Server withRetryInterval(Long retryInterval) {
 		this.retryInterval = retryInterval;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -500,6 +548,7 @@ public class Server {
 	 */
 	public void  setMaxRetries(Long maxRetries) {
 		this.maxRetries = maxRetries;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -513,6 +562,7 @@ public class Server {
 	 */
 	public Server withMaxRetries(Long maxRetries) {
 		this.maxRetries = maxRetries;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -22,9 +22,13 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Each table entry represents a fully qualified domain name updated by this Dynamic DNS Client.
@@ -69,8 +73,19 @@ public class Hostname {
 	 * @since 2.10
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdate;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Hostname() {
 	}
 
@@ -93,6 +108,7 @@ public class Hostname {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -104,6 +120,7 @@ public class Hostname {
 	 */
 	public Hostname withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -125,6 +142,7 @@ public class Hostname {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -136,6 +154,7 @@ public class Hostname {
 	 */
 	public Hostname withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -161,6 +180,8 @@ public class Hostname {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -174,6 +195,8 @@ public class Hostname {
 	 */
 	public Hostname withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -195,6 +218,7 @@ public class Hostname {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -206,6 +230,7 @@ public class Hostname {
 	 */
 	public Hostname withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ethernet;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ethernet._interface.Stats;
 
@@ -178,6 +181,16 @@ public class Interface {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -204,6 +217,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -217,6 +231,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -250,6 +265,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -267,6 +283,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -288,6 +305,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -299,6 +318,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -320,6 +341,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -331,6 +354,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -352,6 +377,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -363,6 +389,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -379,6 +406,19 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -389,6 +429,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -402,6 +443,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -439,6 +481,7 @@ public class Interface {
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -458,6 +501,7 @@ public class Interface {
 	 */
 	public Interface withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -483,6 +527,7 @@ public class Interface {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -496,6 +541,7 @@ public class Interface {
 	 */
 	public Interface withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -521,6 +567,7 @@ public class Interface {
 	 */
 	public void  setMaxBitRate(Integer maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -534,6 +581,7 @@ public class Interface {
 	 */
 	public Interface withMaxBitRate(Integer maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -559,6 +607,7 @@ public class Interface {
 	 */
 	public void  setCurrentBitRate(Long currentBitRate) {
 		this.currentBitRate = currentBitRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -572,6 +621,7 @@ public class Interface {
 	 */
 	public Interface withCurrentBitRate(Long currentBitRate) {
 		this.currentBitRate = currentBitRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -593,6 +643,7 @@ public class Interface {
 	 */
 	public void  setDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -604,6 +655,7 @@ public class Interface {
 	 */
 	public Interface withDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -625,6 +677,7 @@ public class Interface {
 	 */
 	public void  setEeeCapability(Boolean eeeCapability) {
 		this.eeeCapability = eeeCapability;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -636,6 +689,7 @@ public class Interface {
 	 */
 	public Interface withEeeCapability(Boolean eeeCapability) {
 		this.eeeCapability = eeeCapability;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -657,6 +711,7 @@ public class Interface {
 	 */
 	public void  setEeeEnable(Boolean eeeEnable) {
 		this.eeeEnable = eeeEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -668,6 +723,7 @@ public class Interface {
 	 */
 	public Interface withEeeEnable(Boolean eeeEnable) {
 		this.eeeEnable = eeeEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
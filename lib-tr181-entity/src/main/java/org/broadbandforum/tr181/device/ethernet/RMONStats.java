@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Ethernet statistics based on the {{bibref|RFC2819}} ''RMON-MIB'' ''etherStatsTable'', with some extensions inspired by {{bibref|G.988|Section 9.3.32}}.
@@ -277,6 +279,16 @@ public class RMONStats {
 	@CWMPParameter(activeNotify = "canDeny", units = "packets")
 	public Long packets1024to1518Bytes = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public RMONStats() {
 	}
 
@@ -299,6 +311,7 @@ public class RMONStats {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -310,6 +323,7 @@ public class RMONStats {
 	 */
 	public RMONStats withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -339,6 +353,7 @@ public class RMONStats {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -354,6 +369,7 @@ public class RMONStats {
 	 */
 	public RMONStats withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -375,6 +391,8 @@ public class RMONStats {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -386,6 +404,8 @@ public class RMONStats {
 	 */
 	public RMONStats withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -407,6 +427,7 @@ public class RMONStats {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -418,6 +439,7 @@ public class RMONStats {
 	 */
 	public RMONStats withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -443,6 +465,8 @@ public class RMONStats {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -456,6 +480,8 @@ public class RMONStats {
 	 */
 	public RMONStats with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -489,6 +515,8 @@ public class RMONStats {
 	 */
 	public void  setVlaNID(Long vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -506,6 +534,8 @@ public class RMONStats {
 	 */
 	public RMONStats withVlaNID(Long vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -535,6 +565,8 @@ public class RMONStats {
 	 */
 	public void  setQueue(String queue) {
 		this.queue = queue;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -550,6 +582,8 @@ public class RMONStats {
 	 */
 	public RMONStats withQueue(String queue) {
 		this.queue = queue;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -571,6 +605,7 @@ public class RMONStats {
 	 */
 	public void  setAllQueues(Boolean allQueues) {
 		this.allQueues = allQueues;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -582,6 +617,7 @@ public class RMONStats {
 	 */
 	public RMONStats withAllQueues(Boolean allQueues) {
 		this.allQueues = allQueues;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -607,6 +643,7 @@ public class RMONStats {
 	 */
 	public void  setDropEvents(Long dropEvents) {
 		this.dropEvents = dropEvents;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -620,6 +657,7 @@ public class RMONStats {
 	 */
 	public RMONStats withDropEvents(Long dropEvents) {
 		this.dropEvents = dropEvents;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -645,6 +683,7 @@ public class RMONStats {
 	 */
 	public void  setBytes(Long bytes) {
 		this.bytes = bytes;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -658,6 +697,7 @@ public class RMONStats {
 	 */
 	public RMONStats withBytes(Long bytes) {
 		this.bytes = bytes;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -683,6 +723,7 @@ public class RMONStats {
 	 */
 	public void  setPackets(Long packets) {
 		this.packets = packets;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -696,6 +737,7 @@ public class RMONStats {
 	 */
 	public RMONStats withPackets(Long packets) {
 		this.packets = packets;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -721,6 +763,7 @@ public class RMONStats {
 	 */
 	public void  setBroadcastPackets(Long broadcastPackets) {
 		this.broadcastPackets = broadcastPackets;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -734,6 +777,7 @@ public class RMONStats {
 	 */
 	public RMONStats withBroadcastPackets(Long broadcastPackets) {
 		this.broadcastPackets = broadcastPackets;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -759,6 +803,7 @@ public class RMONStats {
 	 */
 	public void  setMulticastPackets(Long multicastPackets) {
 		this.multicastPackets = multicastPackets;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -772,6 +817,7 @@ public class RMONStats {
 	 */
 	public RMONStats withMulticastPackets(Long multicastPackets) {
 		this.multicastPackets = multicastPackets;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -797,6 +843,7 @@ public class RMONStats {
 	 */
 	public void  setCrcErroredPackets(Long crcErroredPackets) {
 		this.crcErroredPackets = crcErroredPackets;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -810,6 +857,7 @@ public class RMONStats {
 	 */
 	public RMONStats withCrcErroredPackets(Long crcErroredPackets) {
 		this.crcErroredPackets = crcErroredPackets;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -835,6 +883,7 @@ public class RMONStats {
 	 */
 	public void  setUndersizePackets(Long undersizePackets) {
 		this.undersizePackets = undersizePackets;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -848,6 +897,7 @@ public class RMONStats {
 	 */
 	public RMONStats withUndersizePackets(Long undersizePackets) {
 		this.undersizePackets = undersizePackets;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -873,6 +923,7 @@ public class RMONStats {
 	 */
 	public void  setOversizePackets(Long oversizePackets) {
 		this.oversizePackets = oversizePackets;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -886,6 +937,7 @@ public class RMONStats {
 	 */
 	public RMONStats withOversizePackets(Long oversizePackets) {
 		this.oversizePackets = oversizePackets;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -911,6 +963,7 @@ public class RMONStats {
 	 */
 	public void  setPackets64Bytes(Long packets64Bytes) {
 		this.packets64Bytes = packets64Bytes;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -924,6 +977,7 @@ public class RMONStats {
 	 */
 	public RMONStats withPackets64Bytes(Long packets64Bytes) {
 		this.packets64Bytes = packets64Bytes;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -949,6 +1003,7 @@ public class RMONStats {
 	 */
 	public void  setPackets65to127Bytes(Long packets65to127Bytes) {
 		this.packets65to127Bytes = packets65to127Bytes;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -962,6 +1017,7 @@ public class RMONStats {
 	 */
 	public RMONStats withPackets65to127Bytes(Long packets65to127Bytes) {
 		this.packets65to127Bytes = packets65to127Bytes;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -987,6 +1043,7 @@ public class RMONStats {
 	 */
 	public void  setPackets128to255Bytes(Long packets128to255Bytes) {
 		this.packets128to255Bytes = packets128to255Bytes;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1000,6 +1057,7 @@ public class RMONStats {
 	 */
 	public RMONStats withPackets128to255Bytes(Long packets128to255Bytes) {
 		this.packets128to255Bytes = packets128to255Bytes;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1025,6 +1083,7 @@ public class RMONStats {
 	 */
 	public void  setPackets256to511Bytes(Long packets256to511Bytes) {
 		this.packets256to511Bytes = packets256to511Bytes;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1038,6 +1097,7 @@ public class RMONStats {
 	 */
 	public RMONStats withPackets256to511Bytes(Long packets256to511Bytes) {
 		this.packets256to511Bytes = packets256to511Bytes;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1063,6 +1123,7 @@ public class RMONStats {
 	 */
 	public void  setPackets512to1023Bytes(Long packets512to1023Bytes) {
 		this.packets512to1023Bytes = packets512to1023Bytes;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1076,6 +1137,7 @@ public class RMONStats {
 	 */
 	public RMONStats withPackets512to1023Bytes(Long packets512to1023Bytes) {
 		this.packets512to1023Bytes = packets512to1023Bytes;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1101,6 +1163,7 @@ public class RMONStats {
 	 */
 	public void  setPackets1024to1518Bytes(Long packets1024to1518Bytes) {
 		this.packets1024to1518Bytes = packets1024to1518Bytes;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1114,6 +1177,7 @@ public class RMONStats {
 	 */
 	public RMONStats withPackets1024to1518Bytes(Long packets1024to1518Bytes) {
 		this.packets1024to1518Bytes = packets1024to1518Bytes;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ethernet;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ethernet.vlantermination.Stats;
 
 	/**
@@ -134,6 +137,16 @@ public class VLANTermination {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VLANTermination() {
 	}
 
@@ -160,6 +173,7 @@ public class VLANTermination {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -173,6 +187,7 @@ public class VLANTermination {
 	 */
 	public VLANTermination withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -206,6 +221,7 @@ public class VLANTermination {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -223,6 +239,7 @@ public class VLANTermination {
 	 */
 	public VLANTermination withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -244,6 +261,8 @@ public class VLANTermination {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -255,6 +274,8 @@ public class VLANTermination {
 	 */
 	public VLANTermination withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -276,6 +297,8 @@ public class VLANTermination {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -287,6 +310,8 @@ public class VLANTermination {
 	 */
 	public VLANTermination withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -308,6 +333,7 @@ public class VLANTermination {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -319,6 +345,7 @@ public class VLANTermination {
 	 */
 	public VLANTermination withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -333,6 +360,17 @@ public class VLANTermination {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 	 *
@@ -341,6 +379,7 @@ public class VLANTermination {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -352,6 +391,7 @@ public class VLANTermination {
 	 */
 	public VLANTermination withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -373,6 +413,7 @@ public class VLANTermination {
 	 */
 	public void  setVlaNID(Long vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -384,6 +425,7 @@ public class VLANTermination {
 	 */
 	public VLANTermination withVlaNID(Long vlaNID) {
 		this.vlaNID = vlaNID;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -425,6 +467,7 @@ public class VLANTermination {
 	 */
 	public void  setTpiD(Long tpiD) {
 		this.tpiD = tpiD;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -446,6 +489,7 @@ public class VLANTermination {
 	 */
 	public VLANTermination withTpiD(Long tpiD) {
 		this.tpiD = tpiD;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
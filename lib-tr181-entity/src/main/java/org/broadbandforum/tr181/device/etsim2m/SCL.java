@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.etsim2m;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.AreaNwkDeviceInfoInstance;
 import org.broadbandforum.tr181.device.etsim2m.scl.AreaNwkInstance;
 import org.broadbandforum.tr181.device.etsim2m.scl.Discovery;
@@ -154,6 +157,16 @@ public class SCL {
 	@XmlElement(name = "AreaNwkDeviceInfoInstance")
 	public Collection<AreaNwkDeviceInfoInstance> areaNwkDeviceInfoInstances;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SCL() {
 	}
 
@@ -176,6 +189,7 @@ public class SCL {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -187,6 +201,7 @@ public class SCL {
 	 */
 	public SCL withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -208,6 +223,8 @@ public class SCL {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -219,6 +236,8 @@ public class SCL {
 	 */
 	public SCL withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -239,6 +258,23 @@ public class SCL {
 		return announcedToSCLList;
 	}
 
+	/**
+	 * Read the {{list}} The list represents an unordered set of URIs {{bibref|RFC3986}}. 
+
+          A list item is a URI string that represents a SCL to which the this {{object}} will announce original (local) resources. 
+
+          The AnnouncedToSCL has an interest in the discovery of the local resource. Section 9.2.1.14 Announced Resource of the M2M Functional Architecture {{bibref|ETSIM2MFA}} provides a description of this behavior of an Announced Resource.
+
+          Section 9.3.2.28 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} and Section 10.3.2.7 of the M2M mIa, dIa and mId Interfaces {{bibref|ETSIM2MInterfaces}} describes the process of announcing and deannouncing of resources within a SCL.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAnnouncedToSCLList() {
+		return announcedToSCLList == null ? Collections.emptyList() : announcedToSCLList;
+	}
+
 	/**
 	 * Set the {{list}} The list represents an unordered set of URIs {{bibref|RFC3986}}. 
 
@@ -253,6 +289,7 @@ public class SCL {
 	 */
 	public void  setAnnouncedToSCLList(Collection<String> announcedToSCLList) {
 		this.announcedToSCLList = announcedToSCLList;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -270,6 +307,7 @@ public class SCL {
 	 */
 	public SCL withAnnouncedToSCLList(String string) {
 		getAnnouncedToSCLList().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -351,10 +389,28 @@ public class SCL {
 	 * @return the value
 	 */
 	public Collection<SAFPolicySet> getSafPolicySets() {
-		if (this.safPolicySets == null){ this.safPolicySets=new ArrayList<>();}
+		if (!(this.safPolicySets instanceof InstanceTable)){ this.safPolicySets=InstanceTable.of(this.safPolicySets);}
 		return safPolicySets;
 	}
 
+	/**
+	 * Read the this object describes the parameters necessary to administer the store-and-forward (SAF) handling policies applied to requests to access remotely hosted resources.
+
+        Policies are described by instances of {{object}}. Which instances of {{object}} are used by the SCL is determined by the {{param|PolicyScope}} parameter.
+
+        Section 9.3.1.5 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} and Section 10.3.1.2.2 of the M2M mIa, dIa and mId Interfaces {{bibref|ETSIM2MInterfaces}} describe the behavior for SAF processing.
+
+        There is at most one {{object}} instance with the {{param|PolicyScope}} containing a specific application id (APP-ID) URI value within the list.
+
+        There is exactly one {{object}} instance with a {{param|PolicyScope}} value of "default".
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SAFPolicySet> viewSafPolicySets() {
+		return safPolicySets == null ? Collections.emptyList() : safPolicySets;
+	}
+
 	/**
 	 * Set the this object describes the parameters necessary to administer the store-and-forward (SAF) handling policies applied to requests to access remotely hosted resources.
 
@@ -403,10 +459,26 @@ public class SCL {
 	 * @return the value
 	 */
 	public Collection<AreaNwkInstance> getAreaNwkInstances() {
-		if (this.areaNwkInstances == null){ this.areaNwkInstances=new ArrayList<>();}
+		if (!(this.areaNwkInstances instanceof InstanceTable)){ this.areaNwkInstances=InstanceTable.of(this.areaNwkInstances);}
 		return areaNwkInstances;
 	}
 
+	/**
+	 * Read the M2M Area Network information provides administration capabilities for remote management (REM) of M2M Devices (D', d) that are attached to this {{object|##.SCL}} instance.
+
+        This object provides the administration of the properties needed by the SCL to remotely manage M2M Devices within a specific type of M2M Area network as defined by {{param|AreaNwkType}}.
+
+        Multiple instances of {{object}} with the same {{param|AreaNwkType}} is permitted.
+
+        Section 5.3.5 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describes the REM functionality expected of a SCL for an M2M Device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AreaNwkInstance> viewAreaNwkInstances() {
+		return areaNwkInstances == null ? Collections.emptyList() : areaNwkInstances;
+	}
+
 	/**
 	 * Set the M2M Area Network information provides administration capabilities for remote management (REM) of M2M Devices (D', d) that are attached to this {{object|##.SCL}} instance.
 
@@ -463,10 +535,38 @@ public class SCL {
 	 * @return the value
 	 */
 	public Collection<AreaNwkDeviceInfoInstance> getAreaNwkDeviceInfoInstances() {
-		if (this.areaNwkDeviceInfoInstances == null){ this.areaNwkDeviceInfoInstances=new ArrayList<>();}
+		if (!(this.areaNwkDeviceInfoInstances instanceof InstanceTable)){ this.areaNwkDeviceInfoInstances=InstanceTable.of(this.areaNwkDeviceInfoInstances);}
 		return areaNwkDeviceInfoInstances;
 	}
 
+	/**
+	 * Read the M2M Area Network Device Information provides the administration capability to the SCL for maintenance of M2M Devices (D', d) that are attached to this {{object|##.SCL}} instance.
+
+        While discovery and identification of devices by the M2M Gateway or Device (CPE) is implementation specific, each device is represented by an instance of the {{object|.Hosts.Host}} table.
+
+        When the M2M Device is managed by the CWMP endpoint of the CPE, the {{object}} is expected to be referenced by an instance of one of the following tables: 
+
+        *{{object|.ManagementServer.EmbeddedDevice}}
+
+        *{{object|.ManagementServer.VirtualDevice}}
+
+        Section 5.3.5 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describes the REM functionality expected of a SCL to a M2M Device.
+
+        This object instance provides the administration properties required by a SCL to remotely manage an instance of a M2M Device within a M2M area network. 
+
+        A M2M Device is associated with an instance of a {{object|#.AreaNwkInstance}}. 
+
+        This table contains parameters and information of the M2M Device related to each {{object|#.AreaNwkInstance}} instance.
+
+        Instances of this table are created and deleted by the CPE. The ACS MAY modify the writeable parameters of this object instance but  it is possible that the value set by the ACS is not retained between reboots of the M2M Device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AreaNwkDeviceInfoInstance> viewAreaNwkDeviceInfoInstances() {
+		return areaNwkDeviceInfoInstances == null ? Collections.emptyList() : areaNwkDeviceInfoInstances;
+	}
+
 	/**
 	 * Set the M2M Area Network Device Information provides the administration capability to the SCL for maintenance of M2M Devices (D', d) that are attached to this {{object|##.SCL}} instance.
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.etsim2m.scl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.areanwkdeviceinfoinstance.Property;
 
 	/**
@@ -145,6 +148,11 @@ public class AreaNwkDeviceInfoInstance {
 	@XmlElement(name = "Property")
 	public Collection<Property> properties;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AreaNwkDeviceInfoInstance() {
 	}
 
@@ -167,6 +175,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setAreaNwkInstance(String areaNwkInstance) {
 		this.areaNwkInstance = areaNwkInstance;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -178,6 +187,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withAreaNwkInstance(String areaNwkInstance) {
 		this.areaNwkInstance = areaNwkInstance;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -192,6 +202,17 @@ public class AreaNwkDeviceInfoInstance {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|the {{object|.Hosts.Host}} table entry that represents an active or inactive M2M Device}}
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|the {{object|.Hosts.Host}} table entry that represents an active or inactive M2M Device}}
 	 *
@@ -200,6 +221,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -211,6 +233,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -225,6 +248,17 @@ public class AreaNwkDeviceInfoInstance {
 		return listOfDeviceNeighbors;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}} References all the {{object|.Hosts.Host}} table entries, whether active or inactive, that represent the reachable neighbors of this M2M Device (D' or d).
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewListOfDeviceNeighbors() {
+		return listOfDeviceNeighbors == null ? Collections.emptyList() : listOfDeviceNeighbors;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}} References all the {{object|.Hosts.Host}} table entries, whether active or inactive, that represent the reachable neighbors of this M2M Device (D' or d).
 	 *
@@ -233,6 +267,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setListOfDeviceNeighbors(Collection<String> listOfDeviceNeighbors) {
 		this.listOfDeviceNeighbors = listOfDeviceNeighbors;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -244,6 +279,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withListOfDeviceNeighbors(String string) {
 		getListOfDeviceNeighbors().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -262,6 +298,21 @@ public class AreaNwkDeviceInfoInstance {
 		return listOfDeviceApplications;
 	}
 
+	/**
+	 * Read the list is an unordered set of URIs {{bibref|RFC3986}}. 
+
+          A list item is an URI string that represents an application id (APP-ID) for the M2M D'A applications residing on the M2M Device for the associated {{object|#.AreaNwkInstance}}. 
+
+          Table B.58 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describes this parameter.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewListOfDeviceApplications() {
+		return listOfDeviceApplications == null ? Collections.emptyList() : listOfDeviceApplications;
+	}
+
 	/**
 	 * Set the list is an unordered set of URIs {{bibref|RFC3986}}. 
 
@@ -274,6 +325,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setListOfDeviceApplications(Collection<String> listOfDeviceApplications) {
 		this.listOfDeviceApplications = listOfDeviceApplications;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -289,6 +341,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withListOfDeviceApplications(String string) {
 		getListOfDeviceApplications().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -318,6 +371,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setSleepInterval(Long sleepInterval) {
 		this.sleepInterval = sleepInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -333,6 +387,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withSleepInterval(Long sleepInterval) {
 		this.sleepInterval = sleepInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -362,6 +417,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setSleepDuration(Long sleepDuration) {
 		this.sleepDuration = sleepDuration;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -377,6 +433,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withSleepDuration(Long sleepDuration) {
 		this.sleepDuration = sleepDuration;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -406,6 +463,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -421,6 +479,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -446,6 +505,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -459,6 +519,7 @@ public class AreaNwkDeviceInfoInstance {
 	 */
 	public AreaNwkDeviceInfoInstance withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -470,10 +531,22 @@ public class AreaNwkDeviceInfoInstance {
 	 * @return the value
 	 */
 	public Collection<Property> getProperties() {
-		if (this.properties == null){ this.properties=new ArrayList<>();}
+		if (!(this.properties instanceof InstanceTable)){ this.properties=InstanceTable.of(this.properties);}
 		return properties;
 	}
 
+	/**
+	 * Read the this object contains an instance of a property extension (name value pair) for this {{object|##.AreaNwkDeviceInfoInstance}} instance.
+
+        For example, if the {{param|##.AreaNwkInstance.{i}.AreaNwkType}} value is ZigBee, this {{object|##.AreaNwkDeviceInfoInstance}} contains ZigBee-specific parameters that are not formally modeled for this {{object|##.AreaNwkDeviceInfoInstance}} instance.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Property> viewProperties() {
+		return properties == null ? Collections.emptyList() : properties;
+	}
+
 	/**
 	 * Set the this object contains an instance of a property extension (name value pair) for this {{object|##.AreaNwkDeviceInfoInstance}} instance.
 
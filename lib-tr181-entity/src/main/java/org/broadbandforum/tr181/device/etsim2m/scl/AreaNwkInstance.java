@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.etsim2m.scl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.areanwkinstance.Property;
 
 	/**
@@ -80,6 +83,16 @@ public class AreaNwkInstance {
 	@XmlElement(name = "Property")
 	public Collection<Property> properties;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AreaNwkInstance() {
 	}
 
@@ -102,6 +115,8 @@ public class AreaNwkInstance {
 	 */
 	public void  setId(String id) {
 		this.id = id;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -113,6 +128,8 @@ public class AreaNwkInstance {
 	 */
 	public AreaNwkInstance withId(String id) {
 		this.id = id;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -134,6 +151,7 @@ public class AreaNwkInstance {
 	 */
 	public void  setAreaNwkType(String areaNwkType) {
 		this.areaNwkType = areaNwkType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -145,6 +163,7 @@ public class AreaNwkInstance {
 	 */
 	public AreaNwkInstance withAreaNwkType(String areaNwkType) {
 		this.areaNwkType = areaNwkType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -161,6 +180,19 @@ public class AreaNwkInstance {
 		return listOfDevices;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+          The list represents the M2M Devices (D', d) that are attached to this {{object|##.SCL}} instance that are within this {{object}} instance. The list does not contain an instance for this CPE.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewListOfDevices() {
+		return listOfDevices == null ? Collections.emptyList() : listOfDevices;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -171,6 +203,7 @@ public class AreaNwkInstance {
 	 */
 	public void  setListOfDevices(Collection<String> listOfDevices) {
 		this.listOfDevices = listOfDevices;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -184,6 +217,7 @@ public class AreaNwkInstance {
 	 */
 	public AreaNwkInstance withListOfDevices(String string) {
 		getListOfDevices().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -197,10 +231,24 @@ public class AreaNwkInstance {
 	 * @return the value
 	 */
 	public Collection<Property> getProperties() {
-		if (this.properties == null){ this.properties=new ArrayList<>();}
+		if (!(this.properties instanceof InstanceTable)){ this.properties=InstanceTable.of(this.properties);}
 		return properties;
 	}
 
+	/**
+	 * Read the this object contains an instance of a property extension (name value pair) for this {{object|##.AreaNwkInstance}} instance.
+
+        For example, if the {{param|#.AreaNwkType}} is ZigBee the {{object|##.AreaNwkInstance}} will contain ZigBee specific parameters that have not been modeled for the M2M Area network. 
+
+        At a minimum, a property instance MUST exist that defines  an attribute that describes the IP layer address type (e.g., IPv4, IPv6, non-IP) of this M2M Area Network.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Property> viewProperties() {
+		return properties == null ? Collections.emptyList() : properties;
+	}
+
 	/**
 	 * Set the this object contains an instance of a property extension (name value pair) for this {{object|##.AreaNwkInstance}} instance.
 
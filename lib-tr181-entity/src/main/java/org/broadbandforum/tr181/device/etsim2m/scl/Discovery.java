@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is represents the administration properties used when a NSCL requests discovery of resources within this {{object|##.SCL}} instance.
@@ -61,6 +62,11 @@ public class Discovery {
 	@CWMPParameter(access = "readWrite")
 	public Long maxSizeOfDiscovAnswer;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Discovery() {
 	}
 
@@ -91,6 +97,7 @@ public class Discovery {
 	 */
 	public void  setMaxNumberOfDiscovRecords(Long maxNumberOfDiscovRecords) {
 		this.maxNumberOfDiscovRecords = maxNumberOfDiscovRecords;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -106,6 +113,7 @@ public class Discovery {
 	 */
 	public Discovery withMaxNumberOfDiscovRecords(Long maxNumberOfDiscovRecords) {
 		this.maxNumberOfDiscovRecords = maxNumberOfDiscovRecords;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +143,7 @@ public class Discovery {
 	 */
 	public void  setMaxSizeOfDiscovAnswer(Long maxSizeOfDiscovAnswer) {
 		this.maxSizeOfDiscovAnswer = maxSizeOfDiscovAnswer;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -150,6 +159,7 @@ public class Discovery {
 	 */
 	public Discovery withMaxSizeOfDiscovAnswer(Long maxSizeOfDiscovAnswer) {
 		this.maxSizeOfDiscovAnswer = maxSizeOfDiscovAnswer;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.etsim2m.scl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.etsim2m.scl.reregistration.ActionStatus;
 
 	/**
@@ -92,6 +94,11 @@ public class Reregistration {
 	@XmlElement(name = "ActionStatus")
 	public ActionStatus actionStatus;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Reregistration() {
 	}
 
@@ -111,6 +118,21 @@ public class Reregistration {
 		return regTargetNSCLList;
 	}
 
+	/**
+	 * Read the {{list}} The list represents a priority ordered set of URIs {{bibref|RFC3986}}. The item that is first in the list has the highest priority.
+
+          A list item is a URI {{bibref|RFC3986}} string that represents a NSCL that this {{object|##.SCL}} instance can use in order to attempt registration.
+
+          When modified the contents of this parameter replace the {{param}} received during the bootstrap procedure.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRegTargetNSCLList() {
+		return regTargetNSCLList == null ? Collections.emptyList() : regTargetNSCLList;
+	}
+
 	/**
 	 * Set the {{list}} The list represents a priority ordered set of URIs {{bibref|RFC3986}}. The item that is first in the list has the highest priority.
 
@@ -123,6 +145,7 @@ public class Reregistration {
 	 */
 	public void  setRegTargetNSCLList(Collection<String> regTargetNSCLList) {
 		this.regTargetNSCLList = regTargetNSCLList;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -138,6 +161,7 @@ public class Reregistration {
 	 */
 	public Reregistration withRegTargetNSCLList(String string) {
 		getRegTargetNSCLList().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -154,6 +178,19 @@ public class Reregistration {
 		return regSearchStrings;
 	}
 
+	/**
+	 * Read the {{list}} The list represents the string tokens used as keys when searching for this {{object|##.SCL}} instance.
+
+          Sections 9.2.3.6.2 and 9.2.3.6.4 of the M2M Functional Architecture {{bibref|ETSIM2MFA}} describe the usage for this parameter.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRegSearchStrings() {
+		return regSearchStrings == null ? Collections.emptyList() : regSearchStrings;
+	}
+
 	/**
 	 * Set the {{list}} The list represents the string tokens used as keys when searching for this {{object|##.SCL}} instance.
 
@@ -164,6 +201,7 @@ public class Reregistration {
 	 */
 	public void  setRegSearchStrings(Collection<String> regSearchStrings) {
 		this.regSearchStrings = regSearchStrings;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -177,6 +215,7 @@ public class Reregistration {
 	 */
 	public Reregistration withRegSearchStrings(String string) {
 		getRegSearchStrings().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -198,6 +237,7 @@ public class Reregistration {
 	 */
 	public void  setRegAccessRightID(String regAccessRightID) {
 		this.regAccessRightID = regAccessRightID;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -209,6 +249,7 @@ public class Reregistration {
 	 */
 	public Reregistration withRegAccessRightID(String regAccessRightID) {
 		this.regAccessRightID = regAccessRightID;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -230,6 +271,7 @@ public class Reregistration {
 	 */
 	public void  setRegExpirationDuration(Integer regExpirationDuration) {
 		this.regExpirationDuration = regExpirationDuration;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -241,6 +283,7 @@ public class Reregistration {
 	 */
 	public Reregistration withRegExpirationDuration(Integer regExpirationDuration) {
 		this.regExpirationDuration = regExpirationDuration;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -262,6 +305,7 @@ public class Reregistration {
 	 */
 	public void  setReregistration(Boolean reregistration) {
 		this.reregistration = reregistration;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -273,6 +317,7 @@ public class Reregistration {
 	 */
 	public Reregistration withReregistration(Boolean reregistration) {
 		this.reregistration = reregistration;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
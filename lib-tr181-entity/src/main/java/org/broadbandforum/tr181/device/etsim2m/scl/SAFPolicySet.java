@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.etsim2m.scl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.ANPPolicy;
 import org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.M2MSPPolicy;
 
@@ -104,6 +107,16 @@ public class SAFPolicySet {
 	@XmlElement(name = "M2MSPPolicy")
 	public M2MSPPolicy m2mSPPolicy;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SAFPolicySet() {
 	}
 
@@ -126,6 +139,7 @@ public class SAFPolicySet {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -137,6 +151,7 @@ public class SAFPolicySet {
 	 */
 	public SAFPolicySet withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -158,6 +173,8 @@ public class SAFPolicySet {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +186,8 @@ public class SAFPolicySet {
 	 */
 	public SAFPolicySet withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -197,6 +216,31 @@ public class SAFPolicySet {
 		return policyScope;
 	}
 
+	/**
+	 * Read the parameter defines the scope of the policies contained in this instance of a {{object|#.SAFPolicySet}}.
+
+          The parameter value is:
+
+          *a list of unordered set of URIs {{bibref|RFC3986}} that represents an M2M application id (APP-ID)
+
+          *the value of  "default"
+
+          *{{empty}}
+
+          When this parameter is set to a list of application id (APP-ID) URIs {{bibref|RFC3986}}, the scope indicates that the policies are applicable to requests coming from any specific application on that list. 
+
+          When this parameter is set to a string with the value "default", the scope indicates that the policies are the default policies for this {{object|##.SCL}} instance.
+
+          When this parameter is set to {{empty}}, the value represents an unknown {{object|#.SAFPolicySet}} and the {{object|#.SAFPolicySet}} is not to be used.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPolicyScope() {
+		return policyScope == null ? Collections.emptyList() : policyScope;
+	}
+
 	/**
 	 * Set the parameter defines the scope of the policies contained in this instance of a {{object|#.SAFPolicySet}}.
 
@@ -219,6 +263,7 @@ public class SAFPolicySet {
 	 */
 	public void  setPolicyScope(Collection<String> policyScope) {
 		this.policyScope = policyScope;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -244,6 +289,7 @@ public class SAFPolicySet {
 	 */
 	public SAFPolicySet withPolicyScope(String string) {
 		getPolicyScope().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -255,10 +301,22 @@ public class SAFPolicySet {
 	 * @return the value
 	 */
 	public Collection<ANPPolicy> getAnpPolicies() {
-		if (this.anpPolicies == null){ this.anpPolicies=new ArrayList<>();}
+		if (!(this.anpPolicies instanceof InstanceTable)){ this.anpPolicies=InstanceTable.of(this.anpPolicies);}
 		return anpPolicies;
 	}
 
+	/**
+	 * Read the this table contains the SAF-handling policies which are controlled by the Access Network Provider(s).
+
+        {{keys}}
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ANPPolicy> viewAnpPolicies() {
+		return anpPolicies == null ? Collections.emptyList() : anpPolicies;
+	}
+
 	/**
 	 * Set the this table contains the SAF-handling policies which are controlled by the Access Network Provider(s).
 
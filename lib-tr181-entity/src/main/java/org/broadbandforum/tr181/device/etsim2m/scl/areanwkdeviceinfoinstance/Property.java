@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains an instance of a property extension (name value pair) for this {{object|##.AreaNwkDeviceInfoInstance}} instance.
@@ -50,6 +51,11 @@ public class Property {
 	@XmlElement(name = "Value")
 	public String value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Property() {
 	}
 
@@ -72,6 +78,7 @@ public class Property {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -83,6 +90,7 @@ public class Property {
 	 */
 	public Property withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -104,6 +112,7 @@ public class Property {
 	 */
 	public void  setValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -115,6 +124,7 @@ public class Property {
 	 */
 	public Property withValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
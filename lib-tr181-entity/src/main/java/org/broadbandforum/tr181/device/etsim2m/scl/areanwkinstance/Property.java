@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains an instance of a property extension (name value pair) for this {{object|##.AreaNwkInstance}} instance.
@@ -52,6 +53,11 @@ public class Property {
 	@XmlElement(name = "Value")
 	public String value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Property() {
 	}
 
@@ -74,6 +80,7 @@ public class Property {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -85,6 +92,7 @@ public class Property {
 	 */
 	public Property withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -106,6 +114,7 @@ public class Property {
 	 */
 	public void  setValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -117,6 +126,7 @@ public class Property {
 	 */
 	public Property withValue(String value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object represents the status of the Reregistration action.
@@ -54,6 +55,11 @@ public class ActionStatus {
 	@XmlElement(name = "FinalStatus")
 	public String finalStatus;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ActionStatus() {
 	}
 
@@ -76,6 +82,7 @@ public class ActionStatus {
 	 */
 	public void  setProgress(Long progress) {
 		this.progress = progress;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +94,7 @@ public class ActionStatus {
 	 */
 	public ActionStatus withProgress(Long progress) {
 		this.progress = progress;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -112,6 +120,7 @@ public class ActionStatus {
 	 */
 	public void  setFinalStatus(String finalStatus) {
 		this.finalStatus = finalStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -125,6 +134,7 @@ public class ActionStatus {
 	 */
 	public ActionStatus withFinalStatus(String finalStatus) {
 		this.finalStatus = finalStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.anppolicy.BlockPeriod;
 import org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.anppolicy.RequestCategory;
 
@@ -85,6 +87,16 @@ public class ANPPolicy {
 	@CWMPParameter(access = "readWrite")
 	public Collection<RequestCategory> requestCategories;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ANPPolicy() {
 	}
 
@@ -107,6 +119,7 @@ public class ANPPolicy {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +131,7 @@ public class ANPPolicy {
 	 */
 	public ANPPolicy withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -139,6 +153,8 @@ public class ANPPolicy {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -150,6 +166,8 @@ public class ANPPolicy {
 	 */
 	public ANPPolicy withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -171,6 +189,8 @@ public class ANPPolicy {
 	 */
 	public void  setAnname(String anname) {
 		this.anname = anname;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -182,6 +202,8 @@ public class ANPPolicy {
 	 */
 	public ANPPolicy withAnname(String anname) {
 		this.anname = anname;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -193,10 +215,22 @@ public class ANPPolicy {
 	 * @return the value
 	 */
 	public Collection<BlockPeriod> getBlockPeriods() {
-		if (this.blockPeriods == null){ this.blockPeriods=new ArrayList<>();}
+		if (!(this.blockPeriods instanceof InstanceTable)){ this.blockPeriods=InstanceTable.of(this.blockPeriods);}
 		return blockPeriods;
 	}
 
+	/**
+	 * Read the this table contains a list of block periods for a {{object|##.ANPPolicy}}.
+
+        A block period defines how long the device will wait before re-trying to establish connectivity via the access network after the previous attempt has failed.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BlockPeriod> viewBlockPeriods() {
+		return blockPeriods == null ? Collections.emptyList() : blockPeriods;
+	}
+
 	/**
 	 * Set the this table contains a list of block periods for a {{object|##.ANPPolicy}}.
 
@@ -227,10 +261,20 @@ public class ANPPolicy {
 	 * @return the value
 	 */
 	public Collection<RequestCategory> getRequestCategories() {
-		if (this.requestCategories == null){ this.requestCategories=new ArrayList<>();}
+		if (!(this.requestCategories instanceof InstanceTable)){ this.requestCategories=InstanceTable.of(this.requestCategories);}
 		return requestCategories;
 	}
 
+	/**
+	 * Read the this table contains the Request Category (RCAT) policy items for defining when it is appropriate to use the access network for processing requests.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RequestCategory> viewRequestCategories() {
+		return requestCategories == null ? Collections.emptyList() : requestCategories;
+	}
+
 	/**
 	 * Set the this table contains the Request Category (RCAT) policy items for defining when it is appropriate to use the access network for processing requests.
 	 *
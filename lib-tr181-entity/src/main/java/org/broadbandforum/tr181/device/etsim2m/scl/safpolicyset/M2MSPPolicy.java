@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.m2msppolicy.RequestCategory;
 
 	/**
@@ -56,6 +58,11 @@ public class M2MSPPolicy {
 	@CWMPParameter(access = "readWrite")
 	public Collection<RequestCategory> requestCategories;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public M2MSPPolicy() {
 	}
 
@@ -78,6 +85,7 @@ public class M2MSPPolicy {
 	 */
 	public void  setDefaultRCATValue(String defaultRCATValue) {
 		this.defaultRCATValue = defaultRCATValue;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -89,6 +97,7 @@ public class M2MSPPolicy {
 	 */
 	public M2MSPPolicy withDefaultRCATValue(String defaultRCATValue) {
 		this.defaultRCATValue = defaultRCATValue;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -100,10 +109,22 @@ public class M2MSPPolicy {
 	 * @return the value
 	 */
 	public Collection<RequestCategory> getRequestCategories() {
-		if (this.requestCategories == null){ this.requestCategories=new ArrayList<>();}
+		if (!(this.requestCategories instanceof InstanceTable)){ this.requestCategories=InstanceTable.of(this.requestCategories);}
 		return requestCategories;
 	}
 
+	/**
+	 * Read the this object maintains a list of properties to be used for forwarding requests with a specified {{param|RCAT}}.
+
+        Processing behavior for the use of M2M Service Provider policies is defined in section 10.3.1.2.2.1 of the M2M mIa, dIa and mId Interfaces {{bibref|ETSIM2MInterfaces}} document.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RequestCategory> viewRequestCategories() {
+		return requestCategories == null ? Collections.emptyList() : requestCategories;
+	}
+
 	/**
 	 * Set the this object maintains a list of properties to be used for forwarding requests with a specified {{param|RCAT}}.
 
@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains a list of block periods for a {{object|##.ANPPolicy}}.
@@ -74,6 +76,16 @@ public class BlockPeriod {
 	@CWMPParameter(access = "readWrite", units = "seconds")
 	public Integer blockDuration;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public BlockPeriod() {
 	}
 
@@ -96,6 +108,7 @@ public class BlockPeriod {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -107,6 +120,7 @@ public class BlockPeriod {
 	 */
 	public BlockPeriod withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -128,6 +142,8 @@ public class BlockPeriod {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -139,6 +155,8 @@ public class BlockPeriod {
 	 */
 	public BlockPeriod withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -164,6 +182,8 @@ public class BlockPeriod {
 	 */
 	public void  setFailedAttempts(Long failedAttempts) {
 		this.failedAttempts = failedAttempts;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -177,6 +197,8 @@ public class BlockPeriod {
 	 */
 	public BlockPeriod withFailedAttempts(Long failedAttempts) {
 		this.failedAttempts = failedAttempts;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -198,6 +220,7 @@ public class BlockPeriod {
 	 */
 	public void  setBlockDuration(Integer blockDuration) {
 		this.blockDuration = blockDuration;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -209,6 +232,7 @@ public class BlockPeriod {
 	 */
 	public BlockPeriod withBlockDuration(Integer blockDuration) {
 		this.blockDuration = blockDuration;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.anppolicy;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.anppolicy.requestcategory.Schedule;
 
 	/**
@@ -81,6 +83,16 @@ public class RequestCategory {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Schedule> schedules;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public RequestCategory() {
 	}
 
@@ -103,6 +115,7 @@ public class RequestCategory {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -114,6 +127,7 @@ public class RequestCategory {
 	 */
 	public RequestCategory withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +149,8 @@ public class RequestCategory {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -146,6 +162,8 @@ public class RequestCategory {
 	 */
 	public RequestCategory withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +185,8 @@ public class RequestCategory {
 	 */
 	public void  setRcaT(String rcaT) {
 		this.rcaT = rcaT;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -178,6 +198,8 @@ public class RequestCategory {
 	 */
 	public RequestCategory withRcaT(String rcaT) {
 		this.rcaT = rcaT;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -195,10 +217,28 @@ public class RequestCategory {
 	 * @return the value
 	 */
 	public Collection<Schedule> getSchedules() {
-		if (this.schedules == null){ this.schedules=new ArrayList<>();}
+		if (!(this.schedules instanceof InstanceTable)){ this.schedules=InstanceTable.of(this.schedules);}
 		return schedules;
 	}
 
+	/**
+	 * Read the this table contains the schedules that define when it is appropriate to use the access network for processing requests for the specified value of the {{param|#.RCAT}}.
+
+        The combination of all instances of the {{object|AbsTimeSpan}} along with the {{param|Schedules}} parameter makes up the complete schedule for this instance of a {{object}}.
+
+        The {{param|Schedules}} parameter defines a recurrence of the schedule. If instances of {{object|AbsTimeSpan}} exist, these instances places constraints on the schedule recurrence.
+
+        If the value of the {{param|Schedules}} parameter is {{empty}}, at least one enabled instance of {{object|AbsTimeSpan}} MUST exist.
+
+        Processing behavior for the use of RCAT Schedules is defined in section 10.3.1.2.2 of the M2M mIa, dIa and mId Interfaces {{bibref|ETSIM2MInterfaces}} document.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Schedule> viewSchedules() {
+		return schedules == null ? Collections.emptyList() : schedules;
+	}
+
 	/**
 	 * Set the this table contains the schedules that define when it is appropriate to use the access network for processing requests for the specified value of the {{param|#.RCAT}}.
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.anppolicy.reque
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.anppolicy.requestcategory.schedule.AbsTimeSpan;
 
 	/**
@@ -102,6 +105,16 @@ public class Schedule {
 	@CWMPParameter(access = "readWrite")
 	public Collection<AbsTimeSpan> absTimeSpans;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Schedule() {
 	}
 
@@ -124,6 +137,7 @@ public class Schedule {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +149,7 @@ public class Schedule {
 	 */
 	public Schedule withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +171,8 @@ public class Schedule {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -167,6 +184,8 @@ public class Schedule {
 	 */
 	public Schedule withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -195,6 +214,31 @@ public class Schedule {
 		return schedules;
 	}
 
+	/**
+	 * Read the list is a set of schedule strings. 
+
+          A schedule string is formatted according to the date and time fields defined CRONTAB input file definition in {{bibref|POSIXBase}}.
+
+          The {{param}} parameter is used to set the recurrence of the schedule.
+
+          The timezone used for this parameter is dependent upon the existence of instances of {{object|AbsTimeSpan}} for this {{object}}. If instances of {{object|AbsTimeSpan}} exist, then the timezone of the {{object|AbsTimeSpan}} is used otherwise the UTC timezone is used for this {{param}} parameter.
+
+          Note the command field is not used in this definition and any whitespace or comma characters within a Schedule string MUST be escaped using percent as defined in {{bibref|TR-106a5|section 3.2.3}}
+
+          Example of CRONTAB string:
+
+          *"* 0-6 * * 1-5" would mean every minute for the period from 0:00h to 6:00h (inclusive) on any week day (Monday through Friday) and would be represented as "*%200-6%20*%20*%201-5"
+
+          *"* /15 22-23,0-4 * * 1-5" would mean every 15 minutes for the period from 22:00h to 04:00h on any week day (Monday through Friday) and would be represented as "* /15%2022-23%2C0-4%20*%20*%201-5"
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSchedules() {
+		return schedules == null ? Collections.emptyList() : schedules;
+	}
+
 	/**
 	 * Set the list is a set of schedule strings. 
 
@@ -217,6 +261,7 @@ public class Schedule {
 	 */
 	public void  setSchedules(Collection<String> schedules) {
 		this.schedules = schedules;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -242,6 +287,7 @@ public class Schedule {
 	 */
 	public Schedule withSchedules(String string) {
 		getSchedules().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -257,10 +303,26 @@ public class Schedule {
 	 * @return the value
 	 */
 	public Collection<AbsTimeSpan> getAbsTimeSpans() {
-		if (this.absTimeSpans == null){ this.absTimeSpans=new ArrayList<>();}
+		if (!(this.absTimeSpans instanceof InstanceTable)){ this.absTimeSpans=InstanceTable.of(this.absTimeSpans);}
 		return absTimeSpans;
 	}
 
+	/**
+	 * Read the this object defines an instance of a time span used for determining an RCAT schedule.
+
+        An instance of the {{object}} represents the time span in which the schedule recurrence defined in {{param|#.Schedules}} is constrained.
+
+        {{object}} instances with unknown values for the {{param|StartTime}} or {{param|EndTime}} are ignored.
+
+        All instances of the {{object}} within this {{object|##.Schedule}} MUST utilize the same time zone.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AbsTimeSpan> viewAbsTimeSpans() {
+		return absTimeSpans == null ? Collections.emptyList() : absTimeSpans;
+	}
+
 	/**
 	 * Set the this object defines an instance of a time span used for determining an RCAT schedule.
 
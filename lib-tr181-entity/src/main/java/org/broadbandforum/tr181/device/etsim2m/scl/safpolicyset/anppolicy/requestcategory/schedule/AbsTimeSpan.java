@@ -21,10 +21,15 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object defines an instance of a time span used for determining an RCAT schedule.
@@ -69,8 +74,9 @@ public class AbsTimeSpan {
 	 * @since 2.6
 	 */
 	@XmlElement(name = "StartTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime startTime = LocalDateTime.parse("0001-01-01T00:00:00Z");;
+	public LocalDateTime startTime = CWMPDateTime.UNKNOWN_TIME;
 	/**
 	 * Date and time that represents the end of the time span. 
 
@@ -83,8 +89,19 @@ public class AbsTimeSpan {
 	 * @since 2.6
 	 */
 	@XmlElement(name = "EndTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime endTime = LocalDateTime.parse("0001-01-01T00:00:00Z");;
+	public LocalDateTime endTime = CWMPDateTime.UNKNOWN_TIME;
+
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
 
 	public AbsTimeSpan() {
 	}
@@ -108,6 +125,7 @@ public class AbsTimeSpan {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +137,7 @@ public class AbsTimeSpan {
 	 */
 	public AbsTimeSpan withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +159,8 @@ public class AbsTimeSpan {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -151,6 +172,8 @@ public class AbsTimeSpan {
 	 */
 	public AbsTimeSpan withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -180,6 +203,7 @@ public class AbsTimeSpan {
 	 */
 	public void  setStartTime(LocalDateTime startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -195,6 +219,7 @@ public class AbsTimeSpan {
 	 */
 	public AbsTimeSpan withStartTime(LocalDateTime startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -228,6 +253,7 @@ public class AbsTimeSpan {
 	 */
 	public void  setEndTime(LocalDateTime endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -245,6 +271,7 @@ public class AbsTimeSpan {
 	 */
 	public AbsTimeSpan withEndTime(LocalDateTime endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
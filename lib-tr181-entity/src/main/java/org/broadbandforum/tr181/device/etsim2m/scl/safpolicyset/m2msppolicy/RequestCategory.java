@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.etsim2m.scl.safpolicyset.m2msppolicy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object maintains a list of properties to be used for forwarding requests with a specified {{param|RCAT}}.
@@ -114,6 +117,16 @@ public class RequestCategory {
 	@XmlList
 	public Collection<String> rankedANList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public RequestCategory() {
 	}
 
@@ -136,6 +149,7 @@ public class RequestCategory {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -147,6 +161,7 @@ public class RequestCategory {
 	 */
 	public RequestCategory withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -168,6 +183,8 @@ public class RequestCategory {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -179,6 +196,8 @@ public class RequestCategory {
 	 */
 	public RequestCategory withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -200,6 +219,8 @@ public class RequestCategory {
 	 */
 	public void  setRcaT(String rcaT) {
 		this.rcaT = rcaT;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -211,6 +232,8 @@ public class RequestCategory {
 	 */
 	public RequestCategory withRcaT(String rcaT) {
 		this.rcaT = rcaT;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -236,6 +259,7 @@ public class RequestCategory {
 	 */
 	public void  setTolerableDelay(Integer tolerableDelay) {
 		this.tolerableDelay = tolerableDelay;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -249,6 +273,7 @@ public class RequestCategory {
 	 */
 	public RequestCategory withTolerableDelay(Integer tolerableDelay) {
 		this.tolerableDelay = tolerableDelay;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -274,6 +299,7 @@ public class RequestCategory {
 	 */
 	public void  setThresh(Long thresh) {
 		this.thresh = thresh;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -287,6 +313,7 @@ public class RequestCategory {
 	 */
 	public RequestCategory withThresh(Long thresh) {
 		this.thresh = thresh;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -320,6 +347,7 @@ public class RequestCategory {
 	 */
 	public void  setMem(String mem) {
 		this.mem = mem;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -337,6 +365,7 @@ public class RequestCategory {
 	 */
 	public RequestCategory withMem(String mem) {
 		this.mem = mem;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -351,6 +380,17 @@ public class RequestCategory {
 		return rankedANList;
 	}
 
+	/**
+	 * Read the list is a prioritized set of Access Networks where the preference of using an Access Network is based on order of the list items with the lowest order list item as the most preferred Access Network.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRankedANList() {
+		return rankedANList == null ? Collections.emptyList() : rankedANList;
+	}
+
 	/**
 	 * Set the list is a prioritized set of Access Networks where the preference of using an Access Network is based on order of the list items with the lowest order list item as the most preferred Access Network.
 	 *
@@ -359,6 +399,7 @@ public class RequestCategory {
 	 */
 	public void  setRankedANList(Collection<String> rankedANList) {
 		this.rankedANList = rankedANList;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -370,6 +411,7 @@ public class RequestCategory {
 	 */
 	public RequestCategory withRankedANList(String string) {
 		getRankedANList().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.fap.gps.AGPSServerConfig;
 import org.broadbandforum.tr181.device.fap.gps.ContinuousGPSStatus;
 
@@ -76,6 +79,7 @@ public class GPS {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "PeriodicTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicTime;
 	/**
@@ -115,6 +119,7 @@ public class GPS {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "LastScanTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "forceDefaultEnabled")
 	public LocalDateTime lastScanTime;
 	/**
@@ -127,6 +132,7 @@ public class GPS {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "LastSuccessfulScanTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime lastSuccessfulScanTime;
 	/**
@@ -190,6 +196,11 @@ public class GPS {
 	@XmlElement(name = "AGPSServerConfig")
 	public AGPSServerConfig agpSServerConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public GPS() {
 	}
 
@@ -212,6 +223,7 @@ public class GPS {
 	 */
 	public void  setScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -223,6 +235,7 @@ public class GPS {
 	 */
 	public GPS withScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -244,6 +257,7 @@ public class GPS {
 	 */
 	public void  setScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -255,6 +269,7 @@ public class GPS {
 	 */
 	public GPS withScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -276,6 +291,7 @@ public class GPS {
 	 */
 	public void  setPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -287,6 +303,7 @@ public class GPS {
 	 */
 	public GPS withPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -324,6 +341,7 @@ public class GPS {
 	 */
 	public void  setPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -343,6 +361,7 @@ public class GPS {
 	 */
 	public GPS withPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -364,6 +383,7 @@ public class GPS {
 	 */
 	public void  setContinuousGPS(Boolean continuousGPS) {
 		this.continuousGPS = continuousGPS;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -375,6 +395,7 @@ public class GPS {
 	 */
 	public GPS withContinuousGPS(Boolean continuousGPS) {
 		this.continuousGPS = continuousGPS;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -396,6 +417,7 @@ public class GPS {
 	 */
 	public void  setScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -407,6 +429,7 @@ public class GPS {
 	 */
 	public GPS withScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -428,6 +451,7 @@ public class GPS {
 	 */
 	public void  setScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -439,6 +463,7 @@ public class GPS {
 	 */
 	public GPS withScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -460,6 +485,7 @@ public class GPS {
 	 */
 	public void  setErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -471,6 +497,7 @@ public class GPS {
 	 */
 	public GPS withErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -492,6 +519,7 @@ public class GPS {
 	 */
 	public void  setLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -503,6 +531,7 @@ public class GPS {
 	 */
 	public GPS withLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -532,6 +561,7 @@ public class GPS {
 	 */
 	public void  setLastSuccessfulScanTime(LocalDateTime lastSuccessfulScanTime) {
 		this.lastSuccessfulScanTime = lastSuccessfulScanTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -547,6 +577,7 @@ public class GPS {
 	 */
 	public GPS withLastSuccessfulScanTime(LocalDateTime lastSuccessfulScanTime) {
 		this.lastSuccessfulScanTime = lastSuccessfulScanTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -580,6 +611,7 @@ public class GPS {
 	 */
 	public void  setLockedLatitude(Integer lockedLatitude) {
 		this.lockedLatitude = lockedLatitude;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -597,6 +629,7 @@ public class GPS {
 	 */
 	public GPS withLockedLatitude(Integer lockedLatitude) {
 		this.lockedLatitude = lockedLatitude;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -630,6 +663,7 @@ public class GPS {
 	 */
 	public void  setLockedLongitude(Integer lockedLongitude) {
 		this.lockedLongitude = lockedLongitude;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -647,6 +681,7 @@ public class GPS {
 	 */
 	public GPS withLockedLongitude(Integer lockedLongitude) {
 		this.lockedLongitude = lockedLongitude;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -672,6 +707,7 @@ public class GPS {
 	 */
 	public void  setNumberOfSatellites(Long numberOfSatellites) {
 		this.numberOfSatellites = numberOfSatellites;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -685,6 +721,7 @@ public class GPS {
 	 */
 	public GPS withNumberOfSatellites(Long numberOfSatellites) {
 		this.numberOfSatellites = numberOfSatellites;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -706,6 +743,7 @@ public class GPS {
 	 */
 	public void  setGpsReset(Boolean gpsReset) {
 		this.gpsReset = gpsReset;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -717,6 +755,7 @@ public class GPS {
 	 */
 	public GPS withGpsReset(Boolean gpsReset) {
 		this.gpsReset = gpsReset;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.fap.applicationplatform;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to the capabilities of the Femtozone Application Platform and the Femtozone APIs.
@@ -132,6 +134,11 @@ public class Capabilities {
 	@XmlList
 	public Collection<String> sendMMSTargetAddressType;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -154,6 +161,7 @@ public class Capabilities {
 	 */
 	public void  setPresenceApplicationSupport(Boolean presenceApplicationSupport) {
 		this.presenceApplicationSupport = presenceApplicationSupport;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +173,7 @@ public class Capabilities {
 	 */
 	public Capabilities withPresenceApplicationSupport(Boolean presenceApplicationSupport) {
 		this.presenceApplicationSupport = presenceApplicationSupport;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -186,6 +195,7 @@ public class Capabilities {
 	 */
 	public void  setFemtoAwarenessAPISupport(Boolean femtoAwarenessAPISupport) {
 		this.femtoAwarenessAPISupport = femtoAwarenessAPISupport;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -197,6 +207,7 @@ public class Capabilities {
 	 */
 	public Capabilities withFemtoAwarenessAPISupport(Boolean femtoAwarenessAPISupport) {
 		this.femtoAwarenessAPISupport = femtoAwarenessAPISupport;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -218,6 +229,7 @@ public class Capabilities {
 	 */
 	public void  setSmsAPISupport(Boolean smsAPISupport) {
 		this.smsAPISupport = smsAPISupport;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +241,7 @@ public class Capabilities {
 	 */
 	public Capabilities withSmsAPISupport(Boolean smsAPISupport) {
 		this.smsAPISupport = smsAPISupport;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -250,6 +263,7 @@ public class Capabilities {
 	 */
 	public void  setSubscribeToNotificationsOfSMSSentToApplicationSupport(Boolean subscribeToNotificationsOfSMSSentToApplicationSupport) {
 		this.subscribeToNotificationsOfSMSSentToApplicationSupport = subscribeToNotificationsOfSMSSentToApplicationSupport;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +275,7 @@ public class Capabilities {
 	 */
 	public Capabilities withSubscribeToNotificationsOfSMSSentToApplicationSupport(Boolean subscribeToNotificationsOfSMSSentToApplicationSupport) {
 		this.subscribeToNotificationsOfSMSSentToApplicationSupport = subscribeToNotificationsOfSMSSentToApplicationSupport;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +297,7 @@ public class Capabilities {
 	 */
 	public void  setQuerySMSDeliveryStatusSupport(Boolean querySMSDeliveryStatusSupport) {
 		this.querySMSDeliveryStatusSupport = querySMSDeliveryStatusSupport;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +309,7 @@ public class Capabilities {
 	 */
 	public Capabilities withQuerySMSDeliveryStatusSupport(Boolean querySMSDeliveryStatusSupport) {
 		this.querySMSDeliveryStatusSupport = querySMSDeliveryStatusSupport;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +331,7 @@ public class Capabilities {
 	 */
 	public void  setMmsAPISupport(Boolean mmsAPISupport) {
 		this.mmsAPISupport = mmsAPISupport;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +343,7 @@ public class Capabilities {
 	 */
 	public Capabilities withMmsAPISupport(Boolean mmsAPISupport) {
 		this.mmsAPISupport = mmsAPISupport;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -346,6 +365,7 @@ public class Capabilities {
 	 */
 	public void  setQueryMMSDeliveryStatusSupport(Boolean queryMMSDeliveryStatusSupport) {
 		this.queryMMSDeliveryStatusSupport = queryMMSDeliveryStatusSupport;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -357,6 +377,7 @@ public class Capabilities {
 	 */
 	public Capabilities withQueryMMSDeliveryStatusSupport(Boolean queryMMSDeliveryStatusSupport) {
 		this.queryMMSDeliveryStatusSupport = queryMMSDeliveryStatusSupport;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -378,6 +399,7 @@ public class Capabilities {
 	 */
 	public void  setSubscribeToNotificationsOfMMSSentToApplicationSupport(Boolean subscribeToNotificationsOfMMSSentToApplicationSupport) {
 		this.subscribeToNotificationsOfMMSSentToApplicationSupport = subscribeToNotificationsOfMMSSentToApplicationSupport;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -389,6 +411,7 @@ public class Capabilities {
 	 */
 	public Capabilities withSubscribeToNotificationsOfMMSSentToApplicationSupport(Boolean subscribeToNotificationsOfMMSSentToApplicationSupport) {
 		this.subscribeToNotificationsOfMMSSentToApplicationSupport = subscribeToNotificationsOfMMSSentToApplicationSupport;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -410,6 +433,7 @@ public class Capabilities {
 	 */
 	public void  setTerminalLocationAPISupport(Boolean terminalLocationAPISupport) {
 		this.terminalLocationAPISupport = terminalLocationAPISupport;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -421,6 +445,7 @@ public class Capabilities {
 	 */
 	public Capabilities withTerminalLocationAPISupport(Boolean terminalLocationAPISupport) {
 		this.terminalLocationAPISupport = terminalLocationAPISupport;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -435,6 +460,17 @@ public class Capabilities {
 		return authenticationMethodsSupported;
 	}
 
+	/**
+	 * Read the specifies the supported methods that 3rd Party Applications can use to authenticate with the Femto Application Platform at initialization. Comma separated list of strings.
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAuthenticationMethodsSupported() {
+		return authenticationMethodsSupported == null ? Collections.emptyList() : authenticationMethodsSupported;
+	}
+
 	/**
 	 * Set the specifies the supported methods that 3rd Party Applications can use to authenticate with the Femto Application Platform at initialization. Comma separated list of strings.
 	 *
@@ -443,6 +479,7 @@ public class Capabilities {
 	 */
 	public void  setAuthenticationMethodsSupported(Collection<String> authenticationMethodsSupported) {
 		this.authenticationMethodsSupported = authenticationMethodsSupported;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -454,6 +491,7 @@ public class Capabilities {
 	 */
 	public Capabilities withAuthenticationMethodsSupported(String string) {
 		getAuthenticationMethodsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -468,6 +506,17 @@ public class Capabilities {
 		return accessLevelsSupported;
 	}
 
+	/**
+	 * Read the specifies the supported access levels that 3rd Party Applications can request when authenticating with the Femto Application Platform at initialization. This access level is with respect to resources within the Femto Application Platform only (not to be confused with Access Mode parameter in .FAPService.{i}.AccessMgmt).
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAccessLevelsSupported() {
+		return accessLevelsSupported == null ? Collections.emptyList() : accessLevelsSupported;
+	}
+
 	/**
 	 * Set the specifies the supported access levels that 3rd Party Applications can request when authenticating with the Femto Application Platform at initialization. This access level is with respect to resources within the Femto Application Platform only (not to be confused with Access Mode parameter in .FAPService.{i}.AccessMgmt).
 	 *
@@ -476,6 +525,7 @@ public class Capabilities {
 	 */
 	public void  setAccessLevelsSupported(Collection<String> accessLevelsSupported) {
 		this.accessLevelsSupported = accessLevelsSupported;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -487,6 +537,7 @@ public class Capabilities {
 	 */
 	public Capabilities withAccessLevelsSupported(String string) {
 		getAccessLevelsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -501,6 +552,17 @@ public class Capabilities {
 		return sendSMSTargetAddressType;
 	}
 
+	/**
+	 * Read the specifies the supported types of addresses SMSs can be sent to.
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSendSMSTargetAddressType() {
+		return sendSMSTargetAddressType == null ? Collections.emptyList() : sendSMSTargetAddressType;
+	}
+
 	/**
 	 * Set the specifies the supported types of addresses SMSs can be sent to.
 	 *
@@ -509,6 +571,7 @@ public class Capabilities {
 	 */
 	public void  setSendSMSTargetAddressType(Collection<String> sendSMSTargetAddressType) {
 		this.sendSMSTargetAddressType = sendSMSTargetAddressType;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -520,6 +583,7 @@ public class Capabilities {
 	 */
 	public Capabilities withSendSMSTargetAddressType(String string) {
 		getSendSMSTargetAddressType().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -534,6 +598,17 @@ public class Capabilities {
 		return sendMMSTargetAddressType;
 	}
 
+	/**
+	 * Read the specifies the supported types of addresses MMSs can be sent to.
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSendMMSTargetAddressType() {
+		return sendMMSTargetAddressType == null ? Collections.emptyList() : sendMMSTargetAddressType;
+	}
+
 	/**
 	 * Set the specifies the supported types of addresses MMSs can be sent to.
 	 *
@@ -542,6 +617,7 @@ public class Capabilities {
 	 */
 	public void  setSendMMSTargetAddressType(Collection<String> sendMMSTargetAddressType) {
 		this.sendMMSTargetAddressType = sendMMSTargetAddressType;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -553,6 +629,7 @@ public class Capabilities {
 	 */
 	public Capabilities withSendMMSTargetAddressType(String string) {
 		getSendMMSTargetAddressType().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.fap.applicationplatform.control.FemtoAwareness;
 import org.broadbandforum.tr181.device.fap.applicationplatform.control.MMS;
 import org.broadbandforum.tr181.device.fap.applicationplatform.control.SMS;
@@ -86,6 +87,11 @@ public class Control {
 	@XmlElement(name = "TerminalLocation")
 	public TerminalLocation terminalLocation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Control() {
 	}
 
@@ -112,6 +118,7 @@ public class Control {
 	 */
 	public void  setAuthenticationMethod(String authenticationMethod) {
 		this.authenticationMethod = authenticationMethod;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -125,6 +132,7 @@ public class Control {
 	 */
 	public Control withAuthenticationMethod(String authenticationMethod) {
 		this.authenticationMethod = authenticationMethod;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -158,6 +166,7 @@ public class Control {
 	 */
 	public void  setTunnelInst(String tunnelInst) {
 		this.tunnelInst = tunnelInst;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -175,6 +184,7 @@ public class Control {
 	 */
 	public Control withTunnelInst(String tunnelInst) {
 		this.tunnelInst = tunnelInst;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
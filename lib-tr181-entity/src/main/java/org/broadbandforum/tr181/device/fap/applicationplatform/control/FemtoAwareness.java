@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to the Femto Awareness API.
@@ -102,6 +103,11 @@ public class FemtoAwareness {
 	@CWMPParameter(access = "readWrite")
 	public Boolean queryFemtocellResponseTimezone;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FemtoAwareness() {
 	}
 
@@ -124,6 +130,7 @@ public class FemtoAwareness {
 	 */
 	public void  setApiEnable(Boolean apiEnable) {
 		this.apiEnable = apiEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +142,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withApiEnable(Boolean apiEnable) {
 		this.apiEnable = apiEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +164,7 @@ public class FemtoAwareness {
 	 */
 	public void  setQueueEnable(Boolean queueEnable) {
 		this.queueEnable = queueEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -167,6 +176,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withQueueEnable(Boolean queueEnable) {
 		this.queueEnable = queueEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -188,6 +198,7 @@ public class FemtoAwareness {
 	 */
 	public void  setQueueing (String queueing ) {
 		this.queueing  = queueing ;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -199,6 +210,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withQueueing (String queueing ) {
 		this.queueing  = queueing ;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -220,6 +232,7 @@ public class FemtoAwareness {
 	 */
 	public void  setMaxAPIUsersNumber(Long maxAPIUsersNumber) {
 		this.maxAPIUsersNumber = maxAPIUsersNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +244,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withMaxAPIUsersNumber(Long maxAPIUsersNumber) {
 		this.maxAPIUsersNumber = maxAPIUsersNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -252,6 +266,7 @@ public class FemtoAwareness {
 	 */
 	public void  setFemtozoneID(String femtozoneID) {
 		this.femtozoneID = femtozoneID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -263,6 +278,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withFemtozoneID(String femtozoneID) {
 		this.femtozoneID = femtozoneID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -284,6 +300,7 @@ public class FemtoAwareness {
 	 */
 	public void  setNotificationsUserIdentifierMSISDN(Boolean notificationsUserIdentifierMSISDN) {
 		this.notificationsUserIdentifierMSISDN = notificationsUserIdentifierMSISDN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -295,6 +312,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withNotificationsUserIdentifierMSISDN(Boolean notificationsUserIdentifierMSISDN) {
 		this.notificationsUserIdentifierMSISDN = notificationsUserIdentifierMSISDN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -316,6 +334,7 @@ public class FemtoAwareness {
 	 */
 	public void  setSubscribeToNotificationsResponseCallbackData(Boolean subscribeToNotificationsResponseCallbackData) {
 		this.subscribeToNotificationsResponseCallbackData = subscribeToNotificationsResponseCallbackData;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -327,6 +346,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withSubscribeToNotificationsResponseCallbackData(Boolean subscribeToNotificationsResponseCallbackData) {
 		this.subscribeToNotificationsResponseCallbackData = subscribeToNotificationsResponseCallbackData;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -348,6 +368,7 @@ public class FemtoAwareness {
 	 */
 	public void  setQueryFemtocellResponseTimezone(Boolean queryFemtocellResponseTimezone) {
 		this.queryFemtocellResponseTimezone = queryFemtocellResponseTimezone;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -359,6 +380,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withQueryFemtocellResponseTimezone(Boolean queryFemtocellResponseTimezone) {
 		this.queryFemtocellResponseTimezone = queryFemtocellResponseTimezone;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to the MMS API.
@@ -94,6 +95,11 @@ public class MMS {
 	@CWMPParameter(access = "readWrite")
 	public Boolean enableSubscribeToNotificationsOfMessageSentToApplication;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MMS() {
 	}
 
@@ -116,6 +122,7 @@ public class MMS {
 	 */
 	public void  setApiEnable(Boolean apiEnable) {
 		this.apiEnable = apiEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -127,6 +134,7 @@ public class MMS {
 	 */
 	public MMS withApiEnable(Boolean apiEnable) {
 		this.apiEnable = apiEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -148,6 +156,7 @@ public class MMS {
 	 */
 	public void  setQueueEnable(Boolean queueEnable) {
 		this.queueEnable = queueEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -159,6 +168,7 @@ public class MMS {
 	 */
 	public MMS withQueueEnable(Boolean queueEnable) {
 		this.queueEnable = queueEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -180,6 +190,7 @@ public class MMS {
 	 */
 	public void  setQueueing (String queueing ) {
 		this.queueing  = queueing ;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -191,6 +202,7 @@ public class MMS {
 	 */
 	public MMS withQueueing (String queueing ) {
 		this.queueing  = queueing ;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -212,6 +224,7 @@ public class MMS {
 	 */
 	public void  setMaxAPIUsersNumber(Long maxAPIUsersNumber) {
 		this.maxAPIUsersNumber = maxAPIUsersNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -223,6 +236,7 @@ public class MMS {
 	 */
 	public MMS withMaxAPIUsersNumber(Long maxAPIUsersNumber) {
 		this.maxAPIUsersNumber = maxAPIUsersNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -244,6 +258,7 @@ public class MMS {
 	 */
 	public void  setMinSendMMSTimeInterval(Long minSendMMSTimeInterval) {
 		this.minSendMMSTimeInterval = minSendMMSTimeInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -255,6 +270,7 @@ public class MMS {
 	 */
 	public MMS withMinSendMMSTimeInterval(Long minSendMMSTimeInterval) {
 		this.minSendMMSTimeInterval = minSendMMSTimeInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -276,6 +292,7 @@ public class MMS {
 	 */
 	public void  setEnableQueryMMSDeliveryStatus(Boolean enableQueryMMSDeliveryStatus) {
 		this.enableQueryMMSDeliveryStatus = enableQueryMMSDeliveryStatus;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -287,6 +304,7 @@ public class MMS {
 	 */
 	public MMS withEnableQueryMMSDeliveryStatus(Boolean enableQueryMMSDeliveryStatus) {
 		this.enableQueryMMSDeliveryStatus = enableQueryMMSDeliveryStatus;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -308,6 +326,7 @@ public class MMS {
 	 */
 	public void  setEnableSubscribeToNotificationsOfMessageSentToApplication(Boolean enableSubscribeToNotificationsOfMessageSentToApplication) {
 		this.enableSubscribeToNotificationsOfMessageSentToApplication = enableSubscribeToNotificationsOfMessageSentToApplication;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -319,6 +338,7 @@ public class MMS {
 	 */
 	public MMS withEnableSubscribeToNotificationsOfMessageSentToApplication(Boolean enableSubscribeToNotificationsOfMessageSentToApplication) {
 		this.enableSubscribeToNotificationsOfMessageSentToApplication = enableSubscribeToNotificationsOfMessageSentToApplication;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
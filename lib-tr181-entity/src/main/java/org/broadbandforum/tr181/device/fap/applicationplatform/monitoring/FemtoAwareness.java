@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to the Monitoring of the FemtoAwareness API.
@@ -79,6 +80,11 @@ public class FemtoAwareness {
 	@XmlElement(name = "QueueDiscarded")
 	public Long queueDiscarded;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FemtoAwareness() {
 	}
 
@@ -101,6 +107,7 @@ public class FemtoAwareness {
 	 */
 	public void  setApiAvailable(Boolean apiAvailable) {
 		this.apiAvailable = apiAvailable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +119,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withApiAvailable(Boolean apiAvailable) {
 		this.apiAvailable = apiAvailable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +141,7 @@ public class FemtoAwareness {
 	 */
 	public void  setApiUsers(Long apiUsers) {
 		this.apiUsers = apiUsers;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +153,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withApiUsers(Long apiUsers) {
 		this.apiUsers = apiUsers;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +175,7 @@ public class FemtoAwareness {
 	 */
 	public void  setQueueState(String queueState) {
 		this.queueState = queueState;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +187,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withQueueState(String queueState) {
 		this.queueState = queueState;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -197,6 +209,7 @@ public class FemtoAwareness {
 	 */
 	public void  setQueueNum(Long queueNum) {
 		this.queueNum = queueNum;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -208,6 +221,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withQueueNum(Long queueNum) {
 		this.queueNum = queueNum;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -229,6 +243,7 @@ public class FemtoAwareness {
 	 */
 	public void  setQueueReceived(Long queueReceived) {
 		this.queueReceived = queueReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -240,6 +255,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withQueueReceived(Long queueReceived) {
 		this.queueReceived = queueReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -261,6 +277,7 @@ public class FemtoAwareness {
 	 */
 	public void  setQueueDiscarded(Long queueDiscarded) {
 		this.queueDiscarded = queueDiscarded;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -272,6 +289,7 @@ public class FemtoAwareness {
 	 */
 	public FemtoAwareness withQueueDiscarded(Long queueDiscarded) {
 		this.queueDiscarded = queueDiscarded;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
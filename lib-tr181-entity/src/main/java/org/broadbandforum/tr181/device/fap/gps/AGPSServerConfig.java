@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters for the configuration of the Assisted Global Positioning System (A-GPS) server. See also {{bibref|3GPP-TS.25.171|Section 3.2}}
@@ -115,6 +116,11 @@ public class AGPSServerConfig {
 	@XmlElement(name = "ServerInUse")
 	public Boolean serverInUse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AGPSServerConfig() {
 	}
 
@@ -137,6 +143,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -148,6 +155,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -169,6 +177,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setServerURL(String serverURL) {
 		this.serverURL = serverURL;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -180,6 +189,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withServerURL(String serverURL) {
 		this.serverURL = serverURL;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -201,6 +211,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -212,6 +223,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -233,6 +245,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -244,6 +257,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -265,6 +279,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -276,6 +291,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -305,6 +321,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setReferenceLatitude(Integer referenceLatitude) {
 		this.referenceLatitude = referenceLatitude;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -320,6 +337,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withReferenceLatitude(Integer referenceLatitude) {
 		this.referenceLatitude = referenceLatitude;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -349,6 +367,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setReferenceLongitude(Integer referenceLongitude) {
 		this.referenceLongitude = referenceLongitude;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -364,6 +383,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withReferenceLongitude(Integer referenceLongitude) {
 		this.referenceLongitude = referenceLongitude;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -389,6 +409,7 @@ public class AGPSServerConfig {
 	 */
 	public void  setServerInUse(Boolean serverInUse) {
 		this.serverInUse = serverInUse;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -402,6 +423,7 @@ public class AGPSServerConfig {
 	 */
 	public AGPSServerConfig withServerInUse(Boolean serverInUse) {
 		this.serverInUse = serverInUse;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
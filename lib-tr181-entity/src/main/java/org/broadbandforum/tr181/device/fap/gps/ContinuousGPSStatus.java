@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * When {{param|#.ContinuousGPS}} is {{true}}, the parameters in this object contain the GPS status as it is continuously monitored.
@@ -121,6 +124,7 @@ public class ContinuousGPSStatus {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "LastFixTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime lastFixTime;
 	/**
@@ -186,6 +190,11 @@ public class ContinuousGPSStatus {
 	@Size(min = 120, max = 86400)
 	public Long lockTimeOutDuration;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ContinuousGPSStatus() {
 	}
 
@@ -208,6 +217,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setCurrentFix(Boolean currentFix) {
 		this.currentFix = currentFix;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -219,6 +229,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withCurrentFix(Boolean currentFix) {
 		this.currentFix = currentFix;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -244,6 +255,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setGotFix(Boolean gotFix) {
 		this.gotFix = gotFix;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -257,6 +269,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withGotFix(Boolean gotFix) {
 		this.gotFix = gotFix;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -278,6 +291,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setTimingGood(Boolean timingGood) {
 		this.timingGood = timingGood;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -289,6 +303,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withTimingGood(Boolean timingGood) {
 		this.timingGood = timingGood;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -326,6 +341,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setLatitude(Integer latitude) {
 		this.latitude = latitude;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -345,6 +361,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withLatitude(Integer latitude) {
 		this.latitude = latitude;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -382,6 +399,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setLongitude(Integer longitude) {
 		this.longitude = longitude;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -401,6 +419,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withLongitude(Integer longitude) {
 		this.longitude = longitude;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -434,6 +453,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setElevation(Integer elevation) {
 		this.elevation = elevation;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -451,6 +471,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withElevation(Integer elevation) {
 		this.elevation = elevation;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -476,6 +497,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setLastFixTime(LocalDateTime lastFixTime) {
 		this.lastFixTime = lastFixTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -489,6 +511,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withLastFixTime(LocalDateTime lastFixTime) {
 		this.lastFixTime = lastFixTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -510,6 +533,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setLastFixDuration(Long lastFixDuration) {
 		this.lastFixDuration = lastFixDuration;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -521,6 +545,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withLastFixDuration(Long lastFixDuration) {
 		this.lastFixDuration = lastFixDuration;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -546,6 +571,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setFirstFixTimeout(Integer firstFixTimeout) {
 		this.firstFixTimeout = firstFixTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -559,6 +585,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withFirstFixTimeout(Integer firstFixTimeout) {
 		this.firstFixTimeout = firstFixTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -580,6 +607,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setSatellitesTracked(Long satellitesTracked) {
 		this.satellitesTracked = satellitesTracked;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -591,6 +619,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withSatellitesTracked(Long satellitesTracked) {
 		this.satellitesTracked = satellitesTracked;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -612,6 +641,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setSatelliteTrackingInterval(Long satelliteTrackingInterval) {
 		this.satelliteTrackingInterval = satelliteTrackingInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -623,6 +653,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withSatelliteTrackingInterval(Long satelliteTrackingInterval) {
 		this.satelliteTrackingInterval = satelliteTrackingInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -644,6 +675,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setReceiverStatus(String receiverStatus) {
 		this.receiverStatus = receiverStatus;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -655,6 +687,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withReceiverStatus(String receiverStatus) {
 		this.receiverStatus = receiverStatus;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -676,6 +709,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setLocationType(String locationType) {
 		this.locationType = locationType;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -687,6 +721,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withLocationType(String locationType) {
 		this.locationType = locationType;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -708,6 +743,7 @@ public class ContinuousGPSStatus {
 	 */
 	public void  setLockTimeOutDuration(Long lockTimeOutDuration) {
 		this.lockTimeOutDuration = lockTimeOutDuration;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -719,6 +755,7 @@ public class ContinuousGPSStatus {
 	 */
 	public ContinuousGPSStatus withLockTimeOutDuration(Long lockTimeOutDuration) {
 		this.lockTimeOutDuration = lockTimeOutDuration;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
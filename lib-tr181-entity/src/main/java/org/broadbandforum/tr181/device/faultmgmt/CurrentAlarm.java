@@ -22,8 +22,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Contains all currently active alarms (whose {{param|.FaultMgmt.SupportedAlarm.{i}.PerceivedSeverity}} is not {{enum|Cleared|.FaultMgmt.SupportedAlarm.{i}.PerceivedSeverity}}).
@@ -57,6 +61,7 @@ public class CurrentAlarm {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "AlarmRaisedTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime alarmRaisedTime;
 	/**
 	 * Indicates the date and time when the alarm was last changed by the device.
@@ -64,6 +69,7 @@ public class CurrentAlarm {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "AlarmChangedTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime alarmChangedTime;
 	/**
 	 * Specifies the instance of the Informational Object Class in which the alarm occurred by carrying the Distinguished Name (DN) of this object instance. The format of the DN is specific to the application that is using this {{object}}.
@@ -125,6 +131,16 @@ public class CurrentAlarm {
 	@Size(max = 256)
 	public String additionalInformation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CurrentAlarm() {
 	}
 
@@ -147,6 +163,8 @@ public class CurrentAlarm {
 	 */
 	public void  setAlarmIdentifier(String alarmIdentifier) {
 		this.alarmIdentifier = alarmIdentifier;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -158,6 +176,8 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withAlarmIdentifier(String alarmIdentifier) {
 		this.alarmIdentifier = alarmIdentifier;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -179,6 +199,7 @@ public class CurrentAlarm {
 	 */
 	public void  setAlarmRaisedTime(LocalDateTime alarmRaisedTime) {
 		this.alarmRaisedTime = alarmRaisedTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -190,6 +211,7 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withAlarmRaisedTime(LocalDateTime alarmRaisedTime) {
 		this.alarmRaisedTime = alarmRaisedTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -211,6 +233,7 @@ public class CurrentAlarm {
 	 */
 	public void  setAlarmChangedTime(LocalDateTime alarmChangedTime) {
 		this.alarmChangedTime = alarmChangedTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -222,6 +245,7 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withAlarmChangedTime(LocalDateTime alarmChangedTime) {
 		this.alarmChangedTime = alarmChangedTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -243,6 +267,7 @@ public class CurrentAlarm {
 	 */
 	public void  setManagedObjectInstance(String managedObjectInstance) {
 		this.managedObjectInstance = managedObjectInstance;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -254,6 +279,7 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withManagedObjectInstance(String managedObjectInstance) {
 		this.managedObjectInstance = managedObjectInstance;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -275,6 +301,8 @@ public class CurrentAlarm {
 	 */
 	public void  setEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -286,6 +314,8 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -307,6 +337,8 @@ public class CurrentAlarm {
 	 */
 	public void  setProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -318,6 +350,8 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -343,6 +377,8 @@ public class CurrentAlarm {
 	 */
 	public void  setSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -356,6 +392,8 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -377,6 +415,7 @@ public class CurrentAlarm {
 	 */
 	public void  setPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -388,6 +427,7 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -413,6 +453,7 @@ public class CurrentAlarm {
 	 */
 	public void  setAdditionalText(String additionalText) {
 		this.additionalText = additionalText;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -426,6 +467,7 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withAdditionalText(String additionalText) {
 		this.additionalText = additionalText;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -447,6 +489,7 @@ public class CurrentAlarm {
 	 */
 	public void  setAdditionalInformation(String additionalInformation) {
 		this.additionalInformation = additionalInformation;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -458,6 +501,7 @@ public class CurrentAlarm {
 	 */
 	public CurrentAlarm withAdditionalInformation(String additionalInformation) {
 		this.additionalInformation = additionalInformation;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
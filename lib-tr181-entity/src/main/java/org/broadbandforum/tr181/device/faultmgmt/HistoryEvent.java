@@ -22,8 +22,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table. This table also contains alarm clearing events.
@@ -48,6 +52,7 @@ public class HistoryEvent {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "EventTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime eventTime;
 	/**
 	 * Identifies one Alarm Entry in the Alarm List.  This value MUST be uniquely allocated by the device to the alarm instance during the lifetime of the individual alarm.
@@ -124,6 +129,16 @@ public class HistoryEvent {
 	@Size(max = 256)
 	public String additionalInformation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public HistoryEvent() {
 	}
 
@@ -146,6 +161,8 @@ public class HistoryEvent {
 	 */
 	public void  setEventTime(LocalDateTime eventTime) {
 		this.eventTime = eventTime;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -157,6 +174,8 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withEventTime(LocalDateTime eventTime) {
 		this.eventTime = eventTime;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -178,6 +197,8 @@ public class HistoryEvent {
 	 */
 	public void  setAlarmIdentifier(String alarmIdentifier) {
 		this.alarmIdentifier = alarmIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -189,6 +210,8 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withAlarmIdentifier(String alarmIdentifier) {
 		this.alarmIdentifier = alarmIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -210,6 +233,7 @@ public class HistoryEvent {
 	 */
 	public void  setNotificationType(String notificationType) {
 		this.notificationType = notificationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -221,6 +245,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withNotificationType(String notificationType) {
 		this.notificationType = notificationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -242,6 +267,7 @@ public class HistoryEvent {
 	 */
 	public void  setManagedObjectInstance(String managedObjectInstance) {
 		this.managedObjectInstance = managedObjectInstance;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -253,6 +279,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withManagedObjectInstance(String managedObjectInstance) {
 		this.managedObjectInstance = managedObjectInstance;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -274,6 +301,7 @@ public class HistoryEvent {
 	 */
 	public void  setEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -285,6 +313,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -306,6 +335,7 @@ public class HistoryEvent {
 	 */
 	public void  setProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -317,6 +347,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -342,6 +373,7 @@ public class HistoryEvent {
 	 */
 	public void  setSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -355,6 +387,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -376,6 +409,7 @@ public class HistoryEvent {
 	 */
 	public void  setPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -387,6 +421,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -412,6 +447,7 @@ public class HistoryEvent {
 	 */
 	public void  setAdditionalText(String additionalText) {
 		this.additionalText = additionalText;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -425,6 +461,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withAdditionalText(String additionalText) {
 		this.additionalText = additionalText;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -446,6 +483,7 @@ public class HistoryEvent {
 	 */
 	public void  setAdditionalInformation(String additionalInformation) {
 		this.additionalInformation = additionalInformation;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -457,6 +495,7 @@ public class HistoryEvent {
 	 */
 	public HistoryEvent withAdditionalInformation(String additionalInformation) {
 		this.additionalInformation = additionalInformation;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
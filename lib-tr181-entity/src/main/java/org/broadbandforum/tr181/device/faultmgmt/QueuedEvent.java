@@ -22,8 +22,12 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Alarm events added or updated in {{object|.FaultMgmt.CurrentAlarm.{i}.}} are simultaneously entered into the this table if their corresponding entry in {{object|.FaultMgmt.SupportedAlarm.{i}.}} has {{param|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}} set to {{enum|1 Queued|.FaultMgmt.SupportedAlarm.{i}.ReportingMechanism}}. This table also contains alarm clearing events. 
@@ -52,6 +56,7 @@ public class QueuedEvent {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "EventTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime eventTime;
 	/**
 	 * Identifies one Alarm Entry in the Alarm List.  This value MUST be uniquely allocated by the device to the alarm instance during the lifetime of the individual alarm.
@@ -130,6 +135,16 @@ public class QueuedEvent {
 	@Size(max = 256)
 	public String additionalInformation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public QueuedEvent() {
 	}
 
@@ -156,6 +171,7 @@ public class QueuedEvent {
 	 */
 	public void  setEventTime(LocalDateTime eventTime) {
 		this.eventTime = eventTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -169,6 +185,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withEventTime(LocalDateTime eventTime) {
 		this.eventTime = eventTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -194,6 +211,8 @@ public class QueuedEvent {
 	 */
 	public void  setAlarmIdentifier(String alarmIdentifier) {
 		this.alarmIdentifier = alarmIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -207,6 +226,8 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withAlarmIdentifier(String alarmIdentifier) {
 		this.alarmIdentifier = alarmIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -228,6 +249,7 @@ public class QueuedEvent {
 	 */
 	public void  setNotificationType(String notificationType) {
 		this.notificationType = notificationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -239,6 +261,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withNotificationType(String notificationType) {
 		this.notificationType = notificationType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -260,6 +283,7 @@ public class QueuedEvent {
 	 */
 	public void  setManagedObjectInstance(String managedObjectInstance) {
 		this.managedObjectInstance = managedObjectInstance;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -271,6 +295,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withManagedObjectInstance(String managedObjectInstance) {
 		this.managedObjectInstance = managedObjectInstance;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -292,6 +317,7 @@ public class QueuedEvent {
 	 */
 	public void  setEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -303,6 +329,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -324,6 +351,7 @@ public class QueuedEvent {
 	 */
 	public void  setProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -335,6 +363,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -360,6 +389,7 @@ public class QueuedEvent {
 	 */
 	public void  setSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -373,6 +403,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -394,6 +425,7 @@ public class QueuedEvent {
 	 */
 	public void  setPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -405,6 +437,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -430,6 +463,7 @@ public class QueuedEvent {
 	 */
 	public void  setAdditionalText(String additionalText) {
 		this.additionalText = additionalText;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -443,6 +477,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withAdditionalText(String additionalText) {
 		this.additionalText = additionalText;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -464,6 +499,7 @@ public class QueuedEvent {
 	 */
 	public void  setAdditionalInformation(String additionalInformation) {
 		this.additionalInformation = additionalInformation;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -475,6 +511,7 @@ public class QueuedEvent {
 	 */
 	public QueuedEvent withAdditionalInformation(String additionalInformation) {
 		this.additionalInformation = additionalInformation;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
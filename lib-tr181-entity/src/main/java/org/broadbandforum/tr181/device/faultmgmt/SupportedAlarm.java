@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Supported Alarm Entries which can be raised by the device. 
@@ -86,6 +88,16 @@ public class SupportedAlarm {
 	@CWMPParameter(access = "readWrite")
 	public String reportingMechanism;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SupportedAlarm() {
 	}
 
@@ -108,6 +120,8 @@ public class SupportedAlarm {
 	 */
 	public void  setEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -119,6 +133,8 @@ public class SupportedAlarm {
 	 */
 	public SupportedAlarm withEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -140,6 +156,8 @@ public class SupportedAlarm {
 	 */
 	public void  setProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -151,6 +169,8 @@ public class SupportedAlarm {
 	 */
 	public SupportedAlarm withProbableCause(String probableCause) {
 		this.probableCause = probableCause;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -180,6 +200,8 @@ public class SupportedAlarm {
 	 */
 	public void  setSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -195,6 +217,8 @@ public class SupportedAlarm {
 	 */
 	public SupportedAlarm withSpecificProblem(String specificProblem) {
 		this.specificProblem = specificProblem;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -224,6 +248,8 @@ public class SupportedAlarm {
 	 */
 	public void  setPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -239,6 +265,8 @@ public class SupportedAlarm {
 	 */
 	public SupportedAlarm withPerceivedSeverity(String perceivedSeverity) {
 		this.perceivedSeverity = perceivedSeverity;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -260,6 +288,7 @@ public class SupportedAlarm {
 	 */
 	public void  setReportingMechanism(String reportingMechanism) {
 		this.reportingMechanism = reportingMechanism;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -271,6 +300,7 @@ public class SupportedAlarm {
 	 */
 	public SupportedAlarm withReportingMechanism(String reportingMechanism) {
 		this.reportingMechanism = reportingMechanism;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.firewall;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.firewall.chain.Rule;
 
 	/**
@@ -92,6 +94,16 @@ public class Chain {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Rule> rules;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Chain() {
 	}
 
@@ -114,6 +126,7 @@ public class Chain {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -125,6 +138,7 @@ public class Chain {
 	 */
 	public Chain withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -146,6 +160,8 @@ public class Chain {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -157,6 +173,8 @@ public class Chain {
 	 */
 	public Chain withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -178,6 +196,8 @@ public class Chain {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -189,6 +209,8 @@ public class Chain {
 	 */
 	public Chain withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -214,6 +236,7 @@ public class Chain {
 	 */
 	public void  setCreator(String creator) {
 		this.creator = creator;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -227,6 +250,7 @@ public class Chain {
 	 */
 	public Chain withCreator(String creator) {
 		this.creator = creator;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -242,10 +266,26 @@ public class Chain {
 	 * @return the value
 	 */
 	public Collection<Rule> getRules() {
-		if (this.rules == null){ this.rules=new ArrayList<>();}
+		if (!(this.rules instanceof InstanceTable)){ this.rules=InstanceTable.of(this.rules);}
 		return rules;
 	}
 
+	/**
+	 * Read the firewall Rule table. Each entry defines a Firewall packet selection rule. The {{param|Target}} parameter defines the action to perform for traffic matching this rule: the packet can be dropped, accepted, rejected or passed to another {{object|#}}.
+
+        This table MUST NOT contain dynamic Firewall rules associated with {{enum|Stateful|##.Type}} Firewall sessions.
+
+        All entries are created by the creator of the parent {{object|#}}, as indicated by its {{param|#.Creator}} parameter.  {{object}} entries in a {{object|#}} with a {{param|#.Creator}} of {{enum|Defaults|#.Creator}}, {{enum|ACS|#.Creator}}, {{enum|UserInterface|#.Creator}} or (maybe) {{enum|Other|#.Creator}} are referred to as ''Static'' {{object}}s.  Whether or not a {{object}} in a {{object|#}} with {{param|#.Creator}} {{enum|Other|#.Creator}} is regarded as ''Static'' is a local matter to the CPE.  Some of this object's parameter descriptions refer to whether a {{object}} is ''Static'' when specifying whether or not the parameter value can be modified.
+
+        For enabled table entries, if {{param|SourceInterface}} is not a valid reference and {{param|SourceAllInterfaces}} is {{false}}, or if {{param|DestInterface}} is not a valid reference and {{param|DestAllInterfaces}} is {{false}}, then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Rule> viewRules() {
+		return rules == null ? Collections.emptyList() : rules;
+	}
+
 	/**
 	 * Set the firewall Rule table. Each entry defines a Firewall packet selection rule. The {{param|Target}} parameter defines the action to perform for traffic matching this rule: the packet can be dropped, accepted, rejected or passed to another {{object|#}}.
 
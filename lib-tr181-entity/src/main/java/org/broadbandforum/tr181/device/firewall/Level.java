@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Firewall Level table. When an {{enum|Advanced|#.Config}} configuration is selected, {{param|#.AdvancedLevel}} selects the currently active entry in this table. Each {{object}} table entry references the {{object|#.Chain}} that contains the rules for this level.
@@ -113,6 +115,16 @@ public class Level {
 	@CWMPParameter(access = "readWrite")
 	public Boolean defaultLogPolicy;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Level() {
 	}
 
@@ -135,6 +147,8 @@ public class Level {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -146,6 +160,8 @@ public class Level {
 	 */
 	public Level withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +183,8 @@ public class Level {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -178,6 +196,8 @@ public class Level {
 	 */
 	public Level withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -199,6 +219,7 @@ public class Level {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +231,7 @@ public class Level {
 	 */
 	public Level withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -239,6 +261,7 @@ public class Level {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -254,6 +277,7 @@ public class Level {
 	 */
 	public Level withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -279,6 +303,7 @@ public class Level {
 	 */
 	public void  setChain(String chain) {
 		this.chain = chain;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -292,6 +317,7 @@ public class Level {
 	 */
 	public Level withChain(String chain) {
 		this.chain = chain;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -317,6 +343,7 @@ public class Level {
 	 */
 	public void  setPortMappingEnabled(Boolean portMappingEnabled) {
 		this.portMappingEnabled = portMappingEnabled;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -330,6 +357,7 @@ public class Level {
 	 */
 	public Level withPortMappingEnabled(Boolean portMappingEnabled) {
 		this.portMappingEnabled = portMappingEnabled;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -351,6 +379,7 @@ public class Level {
 	 */
 	public void  setDefaultPolicy(String defaultPolicy) {
 		this.defaultPolicy = defaultPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -362,6 +391,7 @@ public class Level {
 	 */
 	public Level withDefaultPolicy(String defaultPolicy) {
 		this.defaultPolicy = defaultPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -383,6 +413,7 @@ public class Level {
 	 */
 	public void  setDefaultLogPolicy(Boolean defaultLogPolicy) {
 		this.defaultLogPolicy = defaultLogPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -394,6 +425,7 @@ public class Level {
 	 */
 	public Level withDefaultLogPolicy(Boolean defaultLogPolicy) {
 		this.defaultLogPolicy = defaultLogPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -22,12 +22,17 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 import org.broadbandforum.common.IPPrefix;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Firewall Rule table. Each entry defines a Firewall packet selection rule. The {{param|Target}} parameter defines the action to perform for traffic matching this rule: the packet can be dropped, accepted, rejected or passed to another {{object|#}}.
@@ -133,6 +138,7 @@ public class Rule {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "CreationDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime creationDate;
 	/**
 	 * The time at which this {{object}} entry will expire, or {{null}} if not known. For an infinite lifetime, the parameter value MUST be 9999-12-31T23:59:59Z.
@@ -146,8 +152,9 @@ public class Rule {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "ExpiryDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime expiryDate = LocalDateTime.parse("9999-12-31T23:59:59Z");;
+	public LocalDateTime expiryDate = CWMPDateTime.INFINITE_TIME;
 	/**
 	 * {{object}} criterion. {{reference}}  
 
@@ -436,6 +443,16 @@ public class Rule {
 	@CWMPParameter(access = "readWrite")
 	public Boolean dscPExclude;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Rule() {
 	}
 
@@ -458,6 +475,7 @@ public class Rule {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -469,6 +487,7 @@ public class Rule {
 	 */
 	public Rule withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -498,6 +517,7 @@ public class Rule {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -513,6 +533,7 @@ public class Rule {
 	 */
 	public Rule withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -542,6 +563,7 @@ public class Rule {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -557,6 +579,7 @@ public class Rule {
 	 */
 	public Rule withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -578,6 +601,8 @@ public class Rule {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -589,6 +614,8 @@ public class Rule {
 	 */
 	public Rule withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -610,6 +637,7 @@ public class Rule {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -621,6 +649,7 @@ public class Rule {
 	 */
 	public Rule withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -646,6 +675,7 @@ public class Rule {
 	 */
 	public void  setTarget(String target) {
 		this.target = target;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -659,6 +689,7 @@ public class Rule {
 	 */
 	public Rule withTarget(String target) {
 		this.target = target;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -688,6 +719,7 @@ public class Rule {
 	 */
 	public void  setTargetChain(String targetChain) {
 		this.targetChain = targetChain;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -703,6 +735,7 @@ public class Rule {
 	 */
 	public Rule withTargetChain(String targetChain) {
 		this.targetChain = targetChain;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -728,6 +761,7 @@ public class Rule {
 	 */
 	public void  setLog(Boolean log) {
 		this.log = log;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -741,6 +775,7 @@ public class Rule {
 	 */
 	public Rule withLog(Boolean log) {
 		this.log = log;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -762,6 +797,7 @@ public class Rule {
 	 */
 	public void  setCreationDate(LocalDateTime creationDate) {
 		this.creationDate = creationDate;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -773,6 +809,7 @@ public class Rule {
 	 */
 	public Rule withCreationDate(LocalDateTime creationDate) {
 		this.creationDate = creationDate;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -806,6 +843,7 @@ public class Rule {
 	 */
 	public void  setExpiryDate(LocalDateTime expiryDate) {
 		this.expiryDate = expiryDate;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -823,6 +861,7 @@ public class Rule {
 	 */
 	public Rule withExpiryDate(LocalDateTime expiryDate) {
 		this.expiryDate = expiryDate;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -852,6 +891,7 @@ public class Rule {
 	 */
 	public void  setSourceInterface(String sourceInterface) {
 		this.sourceInterface = sourceInterface;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -867,6 +907,7 @@ public class Rule {
 	 */
 	public Rule withSourceInterface(String sourceInterface) {
 		this.sourceInterface = sourceInterface;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -896,6 +937,7 @@ public class Rule {
 	 */
 	public void  setSourceInterfaceExclude(Boolean sourceInterfaceExclude) {
 		this.sourceInterfaceExclude = sourceInterfaceExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -911,6 +953,7 @@ public class Rule {
 	 */
 	public Rule withSourceInterfaceExclude(Boolean sourceInterfaceExclude) {
 		this.sourceInterfaceExclude = sourceInterfaceExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -936,6 +979,7 @@ public class Rule {
 	 */
 	public void  setSourceAllInterfaces(Boolean sourceAllInterfaces) {
 		this.sourceAllInterfaces = sourceAllInterfaces;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -949,6 +993,7 @@ public class Rule {
 	 */
 	public Rule withSourceAllInterfaces(Boolean sourceAllInterfaces) {
 		this.sourceAllInterfaces = sourceAllInterfaces;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -978,6 +1023,7 @@ public class Rule {
 	 */
 	public void  setDestInterface(String destInterface) {
 		this.destInterface = destInterface;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -993,6 +1039,7 @@ public class Rule {
 	 */
 	public Rule withDestInterface(String destInterface) {
 		this.destInterface = destInterface;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1022,6 +1069,7 @@ public class Rule {
 	 */
 	public void  setDestInterfaceExclude(Boolean destInterfaceExclude) {
 		this.destInterfaceExclude = destInterfaceExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1037,6 +1085,7 @@ public class Rule {
 	 */
 	public Rule withDestInterfaceExclude(Boolean destInterfaceExclude) {
 		this.destInterfaceExclude = destInterfaceExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1062,6 +1111,7 @@ public class Rule {
 	 */
 	public void  setDestAllInterfaces(Boolean destAllInterfaces) {
 		this.destAllInterfaces = destAllInterfaces;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1075,6 +1125,7 @@ public class Rule {
 	 */
 	public Rule withDestAllInterfaces(Boolean destAllInterfaces) {
 		this.destAllInterfaces = destAllInterfaces;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1104,6 +1155,7 @@ public class Rule {
 	 */
 	public void  setIpversion(Integer ipversion) {
 		this.ipversion = ipversion;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1119,6 +1171,7 @@ public class Rule {
 	 */
 	public Rule withIpversion(Integer ipversion) {
 		this.ipversion = ipversion;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1152,6 +1205,7 @@ public class Rule {
 	 */
 	public void  setDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1169,6 +1223,7 @@ public class Rule {
 	 */
 	public Rule withDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1190,6 +1245,7 @@ public class Rule {
 	 */
 	public void  setDestMask(IPPrefix destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1201,6 +1257,7 @@ public class Rule {
 	 */
 	public Rule withDestMask(IPPrefix destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1230,6 +1287,7 @@ public class Rule {
 	 */
 	public void  setDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1245,6 +1303,7 @@ public class Rule {
 	 */
 	public Rule withDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1274,6 +1333,7 @@ public class Rule {
 	 */
 	public void  setSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1289,6 +1349,7 @@ public class Rule {
 	 */
 	public Rule withSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1310,6 +1371,7 @@ public class Rule {
 	 */
 	public void  setSourceMask(IPPrefix sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1321,6 +1383,7 @@ public class Rule {
 	 */
 	public Rule withSourceMask(IPPrefix sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1350,6 +1413,7 @@ public class Rule {
 	 */
 	public void  setSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1365,6 +1429,7 @@ public class Rule {
 	 */
 	public Rule withSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1394,6 +1459,7 @@ public class Rule {
 	 */
 	public void  setProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1409,6 +1475,7 @@ public class Rule {
 	 */
 	public Rule withProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1438,6 +1505,7 @@ public class Rule {
 	 */
 	public void  setProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1453,6 +1521,7 @@ public class Rule {
 	 */
 	public Rule withProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1486,6 +1555,7 @@ public class Rule {
 	 */
 	public void  setDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1503,6 +1573,7 @@ public class Rule {
 	 */
 	public Rule withDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1540,6 +1611,7 @@ public class Rule {
 	 */
 	public void  setDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1559,6 +1631,7 @@ public class Rule {
 	 */
 	public Rule withDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1588,6 +1661,7 @@ public class Rule {
 	 */
 	public void  setDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1603,6 +1677,7 @@ public class Rule {
 	 */
 	public Rule withDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1632,6 +1707,7 @@ public class Rule {
 	 */
 	public void  setSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1647,6 +1723,7 @@ public class Rule {
 	 */
 	public Rule withSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1680,6 +1757,7 @@ public class Rule {
 	 */
 	public void  setSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1697,6 +1775,7 @@ public class Rule {
 	 */
 	public Rule withSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1726,6 +1805,7 @@ public class Rule {
 	 */
 	public void  setSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1741,6 +1821,7 @@ public class Rule {
 	 */
 	public Rule withSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1778,6 +1859,7 @@ public class Rule {
 	 */
 	public void  setDscP(Integer dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1797,6 +1879,7 @@ public class Rule {
 	 */
 	public Rule withDscP(Integer dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1826,6 +1909,7 @@ public class Rule {
 	 */
 	public void  setDscPExclude(Boolean dscPExclude) {
 		this.dscPExclude = dscPExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1841,6 +1925,7 @@ public class Rule {
 	 */
 	public Rule withDscPExclude(Boolean dscPExclude) {
 		this.dscPExclude = dscPExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
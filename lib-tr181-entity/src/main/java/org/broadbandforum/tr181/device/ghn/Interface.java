@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ghn;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ghn._interface.AssociatedDevice;
 import org.broadbandforum.tr181.device.ghn._interface.DMInfo;
@@ -365,6 +368,16 @@ public class Interface {
 	@XmlElement(name = "AssociatedDevice")
 	public Collection<AssociatedDevice> associatedDevices;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -391,6 +404,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -404,6 +418,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -437,6 +452,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -454,6 +470,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -475,6 +492,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -486,6 +505,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -507,6 +528,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -518,6 +541,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -539,6 +564,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -550,6 +576,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -566,6 +593,19 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}}  {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}}  {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -576,6 +616,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -589,6 +630,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -626,6 +668,7 @@ public class Interface {
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -645,6 +688,7 @@ public class Interface {
 	 */
 	public Interface withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -670,6 +714,7 @@ public class Interface {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -683,6 +728,7 @@ public class Interface {
 	 */
 	public Interface withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -704,6 +750,7 @@ public class Interface {
 	 */
 	public void  setFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -715,6 +762,7 @@ public class Interface {
 	 */
 	public Interface withFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -736,6 +784,7 @@ public class Interface {
 	 */
 	public void  setConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -747,6 +796,7 @@ public class Interface {
 	 */
 	public Interface withConnectionType(String connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -768,6 +818,7 @@ public class Interface {
 	 */
 	public void  setMaxTransmitRate(Long maxTransmitRate) {
 		this.maxTransmitRate = maxTransmitRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -779,6 +830,7 @@ public class Interface {
 	 */
 	public Interface withMaxTransmitRate(Long maxTransmitRate) {
 		this.maxTransmitRate = maxTransmitRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -793,6 +845,17 @@ public class Interface {
 		return targetDomainNames;
 	}
 
+	/**
+	 * Read the {{list}}  Identifies the target domains configured by the user, as described in {{bibref|G.9961|Section 8.6.1}}. When registering or re-registering, the G.hn interface SHOULD try to register to one of these domains in the given order.
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTargetDomainNames() {
+		return targetDomainNames == null ? Collections.emptyList() : targetDomainNames;
+	}
+
 	/**
 	 * Set the {{list}}  Identifies the target domains configured by the user, as described in {{bibref|G.9961|Section 8.6.1}}. When registering or re-registering, the G.hn interface SHOULD try to register to one of these domains in the given order.
 	 *
@@ -801,6 +864,7 @@ public class Interface {
 	 */
 	public void  setTargetDomainNames(Collection<String> targetDomainNames) {
 		this.targetDomainNames = targetDomainNames;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -812,6 +876,7 @@ public class Interface {
 	 */
 	public Interface withTargetDomainNames(String string) {
 		getTargetDomainNames().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -837,6 +902,7 @@ public class Interface {
 	 */
 	public void  setDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -850,6 +916,7 @@ public class Interface {
 	 */
 	public Interface withDomainName(String domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -871,6 +938,7 @@ public class Interface {
 	 */
 	public void  setDomainNameIdentifier(Long domainNameIdentifier) {
 		this.domainNameIdentifier = domainNameIdentifier;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -882,6 +950,7 @@ public class Interface {
 	 */
 	public Interface withDomainNameIdentifier(Long domainNameIdentifier) {
 		this.domainNameIdentifier = domainNameIdentifier;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -903,6 +972,7 @@ public class Interface {
 	 */
 	public void  setDomainId(Long domainId) {
 		this.domainId = domainId;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -914,6 +984,7 @@ public class Interface {
 	 */
 	public Interface withDomainId(Long domainId) {
 		this.domainId = domainId;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -939,6 +1010,7 @@ public class Interface {
 	 */
 	public void  setDeviceId(Long deviceId) {
 		this.deviceId = deviceId;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -952,6 +1024,7 @@ public class Interface {
 	 */
 	public Interface withDeviceId(Long deviceId) {
 		this.deviceId = deviceId;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -973,6 +1046,7 @@ public class Interface {
 	 */
 	public void  setMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -984,6 +1058,7 @@ public class Interface {
 	 */
 	public Interface withMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1005,6 +1080,7 @@ public class Interface {
 	 */
 	public void  setNodeTypeDMCapable(Boolean nodeTypeDMCapable) {
 		this.nodeTypeDMCapable = nodeTypeDMCapable;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1016,6 +1092,7 @@ public class Interface {
 	 */
 	public Interface withNodeTypeDMCapable(Boolean nodeTypeDMCapable) {
 		this.nodeTypeDMCapable = nodeTypeDMCapable;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1037,6 +1114,7 @@ public class Interface {
 	 */
 	public void  setDmrequested(Boolean dmrequested) {
 		this.dmrequested = dmrequested;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1048,6 +1126,7 @@ public class Interface {
 	 */
 	public Interface withDmrequested(Boolean dmrequested) {
 		this.dmrequested = dmrequested;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1069,6 +1148,7 @@ public class Interface {
 	 */
 	public void  setIsdM(Boolean isdM) {
 		this.isdM = isdM;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1080,6 +1160,7 @@ public class Interface {
 	 */
 	public Interface withIsdM(Boolean isdM) {
 		this.isdM = isdM;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1101,6 +1182,7 @@ public class Interface {
 	 */
 	public void  setNodeTypeSCCapable(Boolean nodeTypeSCCapable) {
 		this.nodeTypeSCCapable = nodeTypeSCCapable;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1112,6 +1194,7 @@ public class Interface {
 	 */
 	public Interface withNodeTypeSCCapable(Boolean nodeTypeSCCapable) {
 		this.nodeTypeSCCapable = nodeTypeSCCapable;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1133,6 +1216,7 @@ public class Interface {
 	 */
 	public void  setScrequested(Boolean screquested) {
 		this.screquested = screquested;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1144,6 +1228,7 @@ public class Interface {
 	 */
 	public Interface withScrequested(Boolean screquested) {
 		this.screquested = screquested;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1165,6 +1250,7 @@ public class Interface {
 	 */
 	public void  setIssC(Boolean issC) {
 		this.issC = issC;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1176,6 +1262,7 @@ public class Interface {
 	 */
 	public Interface withIssC(Boolean issC) {
 		this.issC = issC;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1192,6 +1279,19 @@ public class Interface {
 		return standardVersions;
 	}
 
+	/**
+	 * Read the standard versions that the interface supports. The list MUST have an even number of items.  The first item of each pair represents an ITU-T G.hn Recommendation while the second element of each pair represents the amendment version of the indicated Recommendation that this interface supports (the value 0 corresponds to the base Recommendation).
+
+          For example, to indicate support for the G.9960 base document and G.9961 amendment 1, the corresponding list would be "G9960,0,G9961,1".
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewStandardVersions() {
+		return standardVersions == null ? Collections.emptyList() : standardVersions;
+	}
+
 	/**
 	 * Set the standard versions that the interface supports. The list MUST have an even number of items.  The first item of each pair represents an ITU-T G.hn Recommendation while the second element of each pair represents the amendment version of the indicated Recommendation that this interface supports (the value 0 corresponds to the base Recommendation).
 
@@ -1202,6 +1302,7 @@ public class Interface {
 	 */
 	public void  setStandardVersions(Collection<String> standardVersions) {
 		this.standardVersions = standardVersions;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1215,6 +1316,7 @@ public class Interface {
 	 */
 	public Interface withStandardVersions(String string) {
 		getStandardVersions().add(string);
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1236,6 +1338,7 @@ public class Interface {
 	 */
 	public void  setMaxBandPlan(Long maxBandPlan) {
 		this.maxBandPlan = maxBandPlan;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1247,6 +1350,7 @@ public class Interface {
 	 */
 	public Interface withMaxBandPlan(Long maxBandPlan) {
 		this.maxBandPlan = maxBandPlan;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1268,6 +1372,7 @@ public class Interface {
 	 */
 	public void  setMediumType(String mediumType) {
 		this.mediumType = mediumType;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1279,6 +1384,7 @@ public class Interface {
 	 */
 	public Interface withMediumType(String mediumType) {
 		this.mediumType = mediumType;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1300,6 +1406,7 @@ public class Interface {
 	 */
 	public void  setTaiFG(Long taiFG) {
 		this.taiFG = taiFG;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1311,6 +1418,7 @@ public class Interface {
 	 */
 	public Interface withTaiFG(Long taiFG) {
 		this.taiFG = taiFG;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1336,6 +1444,7 @@ public class Interface {
 	 */
 	public void  setNotchedAmateurRadioBands(byte[] notchedAmateurRadioBands) {
 		this.notchedAmateurRadioBands = notchedAmateurRadioBands;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1349,6 +1458,7 @@ public class Interface {
 	 */
 	public Interface withNotchedAmateurRadioBands(byte[] notchedAmateurRadioBands) {
 		this.notchedAmateurRadioBands = notchedAmateurRadioBands;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1370,6 +1480,7 @@ public class Interface {
 	 */
 	public void  setPhyThroughputDiagnosticsEnable(String phyThroughputDiagnosticsEnable) {
 		this.phyThroughputDiagnosticsEnable = phyThroughputDiagnosticsEnable;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1381,6 +1492,7 @@ public class Interface {
 	 */
 	public Interface withPhyThroughputDiagnosticsEnable(String phyThroughputDiagnosticsEnable) {
 		this.phyThroughputDiagnosticsEnable = phyThroughputDiagnosticsEnable;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1402,6 +1514,7 @@ public class Interface {
 	 */
 	public void  setPerformanceMonitoringDiagnosticsEnable(String performanceMonitoringDiagnosticsEnable) {
 		this.performanceMonitoringDiagnosticsEnable = performanceMonitoringDiagnosticsEnable;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1413,6 +1526,7 @@ public class Interface {
 	 */
 	public Interface withPerformanceMonitoringDiagnosticsEnable(String performanceMonitoringDiagnosticsEnable) {
 		this.performanceMonitoringDiagnosticsEnable = performanceMonitoringDiagnosticsEnable;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1442,6 +1556,7 @@ public class Interface {
 	 */
 	public void  setNodeTypeDMConfig(Boolean nodeTypeDMConfig) {
 		this.nodeTypeDMConfig = nodeTypeDMConfig;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1457,6 +1572,7 @@ public class Interface {
 	 */
 	public Interface withNodeTypeDMConfig(Boolean nodeTypeDMConfig) {
 		this.nodeTypeDMConfig = nodeTypeDMConfig;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1482,6 +1598,7 @@ public class Interface {
 	 */
 	public void  setNodeTypeDMStatus(Boolean nodeTypeDMStatus) {
 		this.nodeTypeDMStatus = nodeTypeDMStatus;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1495,6 +1612,7 @@ public class Interface {
 	 */
 	public Interface withNodeTypeDMStatus(Boolean nodeTypeDMStatus) {
 		this.nodeTypeDMStatus = nodeTypeDMStatus;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1516,6 +1634,7 @@ public class Interface {
 	 */
 	public void  setNodeTypeSCStatus(Boolean nodeTypeSCStatus) {
 		this.nodeTypeSCStatus = nodeTypeSCStatus;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1527,6 +1646,7 @@ public class Interface {
 	 */
 	public Interface withNodeTypeSCStatus(Boolean nodeTypeSCStatus) {
 		this.nodeTypeSCStatus = nodeTypeSCStatus;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1596,10 +1716,22 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<SMMaskedBand> getSmmaskedBands() {
-		if (this.smmaskedBands == null){ this.smmaskedBands=new ArrayList<>();}
+		if (!(this.smmaskedBands instanceof InstanceTable)){ this.smmaskedBands=InstanceTable.of(this.smmaskedBands);}
 		return smmaskedBands;
 	}
 
+	/**
+	 * Read the specifies the list of masked bands to be applied to the G.hn interface.  This information is conveyed by the Domain Master in the SM descriptor as specified in {{bibref|G.9961|Table 8-77}}.
+
+        Instances of this object are expected to exist only on G.hn interfaces that are currently the Domain Master, i.e. for which parameter {{param|#.IsDM}} is {{true}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SMMaskedBand> viewSmmaskedBands() {
+		return smmaskedBands == null ? Collections.emptyList() : smmaskedBands;
+	}
+
 	/**
 	 * Set the specifies the list of masked bands to be applied to the G.hn interface.  This information is conveyed by the Domain Master in the SM descriptor as specified in {{bibref|G.9961|Table 8-77}}.
 
@@ -1665,10 +1797,20 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<AssociatedDevice> getAssociatedDevices() {
-		if (this.associatedDevices == null){ this.associatedDevices=new ArrayList<>();}
+		if (!(this.associatedDevices instanceof InstanceTable)){ this.associatedDevices=InstanceTable.of(this.associatedDevices);}
 		return associatedDevices;
 	}
 
+	/**
+	 * Read the this table contains information about other G.hn devices connected to this G.hn interface.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AssociatedDevice> viewAssociatedDevices() {
+		return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+	}
+
 	/**
 	 * Set the this table contains information about other G.hn devices connected to this G.hn interface.
 	 *
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -84,6 +86,16 @@ public class AssociatedDevice {
 	@XmlElement(name = "Active")
 	public Boolean active;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -110,6 +122,8 @@ public class AssociatedDevice {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -123,6 +137,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -144,6 +160,7 @@ public class AssociatedDevice {
 	 */
 	public void  setDeviceId(Long deviceId) {
 		this.deviceId = deviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -155,6 +172,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withDeviceId(Long deviceId) {
 		this.deviceId = deviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -180,6 +198,7 @@ public class AssociatedDevice {
 	 */
 	public void  setTxphyRate(Long txphyRate) {
 		this.txphyRate = txphyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -193,6 +212,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withTxphyRate(Long txphyRate) {
 		this.txphyRate = txphyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -218,6 +238,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRxphyRate(Long rxphyRate) {
 		this.rxphyRate = rxphyRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +252,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRxphyRate(Long rxphyRate) {
 		this.rxphyRate = rxphyRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -260,6 +282,7 @@ public class AssociatedDevice {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -275,6 +298,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -118,6 +119,11 @@ public class DMInfo {
 	@CWMPParameter(access = "readWrite")
 	public Long maxSupportedBandplan;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DMInfo() {
 	}
 
@@ -140,6 +146,7 @@ public class DMInfo {
 	 */
 	public void  setDomainName(byte[] domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -151,6 +158,7 @@ public class DMInfo {
 	 */
 	public DMInfo withDomainName(byte[] domainName) {
 		this.domainName = domainName;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -172,6 +180,7 @@ public class DMInfo {
 	 */
 	public void  setDomainNameIdentifier(byte[] domainNameIdentifier) {
 		this.domainNameIdentifier = domainNameIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -183,6 +192,7 @@ public class DMInfo {
 	 */
 	public DMInfo withDomainNameIdentifier(byte[] domainNameIdentifier) {
 		this.domainNameIdentifier = domainNameIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -204,6 +214,7 @@ public class DMInfo {
 	 */
 	public void  setDomainId(Long domainId) {
 		this.domainId = domainId;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -215,6 +226,7 @@ public class DMInfo {
 	 */
 	public DMInfo withDomainId(Long domainId) {
 		this.domainId = domainId;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -236,6 +248,7 @@ public class DMInfo {
 	 */
 	public void  setMacCycleDuration(Long macCycleDuration) {
 		this.macCycleDuration = macCycleDuration;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -247,6 +260,7 @@ public class DMInfo {
 	 */
 	public DMInfo withMacCycleDuration(Long macCycleDuration) {
 		this.macCycleDuration = macCycleDuration;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -268,6 +282,7 @@ public class DMInfo {
 	 */
 	public void  setScdeviceId(Long scdeviceId) {
 		this.scdeviceId = scdeviceId;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -279,6 +294,7 @@ public class DMInfo {
 	 */
 	public DMInfo withScdeviceId(Long scdeviceId) {
 		this.scdeviceId = scdeviceId;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -300,6 +316,7 @@ public class DMInfo {
 	 */
 	public void  setScmACAddress(MACAddress scmACAddress) {
 		this.scmACAddress = scmACAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -311,6 +328,7 @@ public class DMInfo {
 	 */
 	public DMInfo withScmACAddress(MACAddress scmACAddress) {
 		this.scmACAddress = scmACAddress;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -332,6 +350,7 @@ public class DMInfo {
 	 */
 	public void  setReregistrationTimePeriod(Long reregistrationTimePeriod) {
 		this.reregistrationTimePeriod = reregistrationTimePeriod;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -343,6 +362,7 @@ public class DMInfo {
 	 */
 	public DMInfo withReregistrationTimePeriod(Long reregistrationTimePeriod) {
 		this.reregistrationTimePeriod = reregistrationTimePeriod;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -364,6 +384,7 @@ public class DMInfo {
 	 */
 	public void  setTopologyPeriodicInterval(Long topologyPeriodicInterval) {
 		this.topologyPeriodicInterval = topologyPeriodicInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -375,6 +396,7 @@ public class DMInfo {
 	 */
 	public DMInfo withTopologyPeriodicInterval(Long topologyPeriodicInterval) {
 		this.topologyPeriodicInterval = topologyPeriodicInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -396,6 +418,7 @@ public class DMInfo {
 	 */
 	public void  setMinSupportedBandplan(Long minSupportedBandplan) {
 		this.minSupportedBandplan = minSupportedBandplan;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -407,6 +430,7 @@ public class DMInfo {
 	 */
 	public DMInfo withMinSupportedBandplan(Long minSupportedBandplan) {
 		this.minSupportedBandplan = minSupportedBandplan;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -428,6 +452,7 @@ public class DMInfo {
 	 */
 	public void  setMaxSupportedBandplan(Long maxSupportedBandplan) {
 		this.maxSupportedBandplan = maxSupportedBandplan;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -439,6 +464,7 @@ public class DMInfo {
 	 */
 	public DMInfo withMaxSupportedBandplan(Long maxSupportedBandplan) {
 		this.maxSupportedBandplan = maxSupportedBandplan;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ghn._interface;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object specifies management parameters pertaining to the Security Controller functionality (Security Controller function; see {{bibref|G.9961|Clause 9.2}}). The object exists only on G.hn interfaces that are currently the Security Controller, i.e. for which parameter {{param|#.IsSC}} is {{true}}.
@@ -69,6 +71,11 @@ public class SCInfo {
 	@XmlElement(name = "Location")
 	public Boolean location;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SCInfo() {
 	}
 
@@ -84,6 +91,17 @@ public class SCInfo {
 		return modesSupported;
 	}
 
+	/**
+	 * Read the security modes that the Security Controller can support.  Refer to {{bibref|G.9961|Clause 9.2}}.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewModesSupported() {
+		return modesSupported == null ? Collections.emptyList() : modesSupported;
+	}
+
 	/**
 	 * Set the security modes that the Security Controller can support.  Refer to {{bibref|G.9961|Clause 9.2}}.
 	 *
@@ -92,6 +110,7 @@ public class SCInfo {
 	 */
 	public void  setModesSupported(Collection<String> modesSupported) {
 		this.modesSupported = modesSupported;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -103,6 +122,7 @@ public class SCInfo {
 	 */
 	public SCInfo withModesSupported(String string) {
 		getModesSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -124,6 +144,7 @@ public class SCInfo {
 	 */
 	public void  setModeEnabled(String modeEnabled) {
 		this.modeEnabled = modeEnabled;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -135,6 +156,7 @@ public class SCInfo {
 	 */
 	public SCInfo withModeEnabled(String modeEnabled) {
 		this.modeEnabled = modeEnabled;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -156,6 +178,7 @@ public class SCInfo {
 	 */
 	public void  setMicSize(String micSize) {
 		this.micSize = micSize;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -167,6 +190,7 @@ public class SCInfo {
 	 */
 	public SCInfo withMicSize(String micSize) {
 		this.micSize = micSize;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -188,6 +212,7 @@ public class SCInfo {
 	 */
 	public void  setLocation(Boolean location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -199,6 +224,7 @@ public class SCInfo {
 	 */
 	public SCInfo withLocation(Boolean location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
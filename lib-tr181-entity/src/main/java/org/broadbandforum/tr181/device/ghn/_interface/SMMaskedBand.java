@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Specifies the list of masked bands to be applied to the G.hn interface.  This information is conveyed by the Domain Master in the SM descriptor as specified in {{bibref|G.9961|Table 8-77}}.
@@ -70,6 +72,16 @@ public class SMMaskedBand {
 	@CWMPParameter(access = "readWrite")
 	public Long stopSubCarrier;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SMMaskedBand() {
 	}
 
@@ -92,6 +104,7 @@ public class SMMaskedBand {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -103,6 +116,7 @@ public class SMMaskedBand {
 	 */
 	public SMMaskedBand withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -124,6 +138,8 @@ public class SMMaskedBand {
 	 */
 	public void  setBandNumber(Long bandNumber) {
 		this.bandNumber = bandNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -135,6 +151,8 @@ public class SMMaskedBand {
 	 */
 	public SMMaskedBand withBandNumber(Long bandNumber) {
 		this.bandNumber = bandNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -156,6 +174,7 @@ public class SMMaskedBand {
 	 */
 	public void  setStartSubCarrier(Long startSubCarrier) {
 		this.startSubCarrier = startSubCarrier;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -167,6 +186,7 @@ public class SMMaskedBand {
 	 */
 	public SMMaskedBand withStartSubCarrier(Long startSubCarrier) {
 		this.startSubCarrier = startSubCarrier;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -188,6 +208,7 @@ public class SMMaskedBand {
 	 */
 	public void  setStopSubCarrier(Long stopSubCarrier) {
 		this.stopSubCarrier = stopSubCarrier;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -199,6 +220,7 @@ public class SMMaskedBand {
 	 */
 	public SMMaskedBand withStopSubCarrier(Long stopSubCarrier) {
 		this.stopSubCarrier = stopSubCarrier;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
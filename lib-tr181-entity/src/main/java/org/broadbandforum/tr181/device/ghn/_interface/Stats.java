@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -267,6 +268,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public StatsCounter32 blocksErrorsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -297,6 +303,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -312,6 +319,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -341,6 +349,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -356,6 +365,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -381,6 +391,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -394,6 +405,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -419,6 +431,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -432,6 +445,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -457,6 +471,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -470,6 +485,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -495,6 +511,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -508,6 +525,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -533,6 +551,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsSent(StatsCounter64 unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -546,6 +565,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsSent(StatsCounter64 unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -571,6 +591,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsReceived(StatsCounter64 unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -584,6 +605,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsReceived(StatsCounter64 unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -609,6 +631,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(StatsCounter32 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -622,6 +645,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(StatsCounter32 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -647,6 +671,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(StatsCounter32 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -660,6 +685,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(StatsCounter32 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -685,6 +711,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsSent(StatsCounter64 multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -698,6 +725,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsSent(StatsCounter64 multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -723,6 +751,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsReceived(StatsCounter64 multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -736,6 +765,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsReceived(StatsCounter64 multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -761,6 +791,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsSent(StatsCounter64 broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -774,6 +805,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsSent(StatsCounter64 broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -799,6 +831,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsReceived(StatsCounter64 broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -812,6 +845,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsReceived(StatsCounter64 broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -837,6 +871,7 @@ public class Stats {
 	 */
 	public void  setUnknownProtoPacketsReceived(StatsCounter32 unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -850,6 +885,7 @@ public class Stats {
 	 */
 	public Stats withUnknownProtoPacketsReceived(StatsCounter32 unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -871,6 +907,7 @@ public class Stats {
 	 */
 	public void  setMgmtBytesSent(StatsCounter64 mgmtBytesSent) {
 		this.mgmtBytesSent = mgmtBytesSent;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -882,6 +919,7 @@ public class Stats {
 	 */
 	public Stats withMgmtBytesSent(StatsCounter64 mgmtBytesSent) {
 		this.mgmtBytesSent = mgmtBytesSent;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -903,6 +941,7 @@ public class Stats {
 	 */
 	public void  setMgmtBytesReceived(StatsCounter64 mgmtBytesReceived) {
 		this.mgmtBytesReceived = mgmtBytesReceived;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -914,6 +953,7 @@ public class Stats {
 	 */
 	public Stats withMgmtBytesReceived(StatsCounter64 mgmtBytesReceived) {
 		this.mgmtBytesReceived = mgmtBytesReceived;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -935,6 +975,7 @@ public class Stats {
 	 */
 	public void  setMgmtPacketsSent(StatsCounter64 mgmtPacketsSent) {
 		this.mgmtPacketsSent = mgmtPacketsSent;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -946,6 +987,7 @@ public class Stats {
 	 */
 	public Stats withMgmtPacketsSent(StatsCounter64 mgmtPacketsSent) {
 		this.mgmtPacketsSent = mgmtPacketsSent;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -967,6 +1009,7 @@ public class Stats {
 	 */
 	public void  setMgmtPacketsReceived(StatsCounter64 mgmtPacketsReceived) {
 		this.mgmtPacketsReceived = mgmtPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -978,6 +1021,7 @@ public class Stats {
 	 */
 	public Stats withMgmtPacketsReceived(StatsCounter64 mgmtPacketsReceived) {
 		this.mgmtPacketsReceived = mgmtPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -999,6 +1043,7 @@ public class Stats {
 	 */
 	public void  setBlocksSent(StatsCounter64 blocksSent) {
 		this.blocksSent = blocksSent;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1010,6 +1055,7 @@ public class Stats {
 	 */
 	public Stats withBlocksSent(StatsCounter64 blocksSent) {
 		this.blocksSent = blocksSent;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1031,6 +1077,7 @@ public class Stats {
 	 */
 	public void  setBlocksReceived(StatsCounter64 blocksReceived) {
 		this.blocksReceived = blocksReceived;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1042,6 +1089,7 @@ public class Stats {
 	 */
 	public Stats withBlocksReceived(StatsCounter64 blocksReceived) {
 		this.blocksReceived = blocksReceived;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1063,6 +1111,7 @@ public class Stats {
 	 */
 	public void  setBlocksResent(StatsCounter32 blocksResent) {
 		this.blocksResent = blocksResent;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1074,6 +1123,7 @@ public class Stats {
 	 */
 	public Stats withBlocksResent(StatsCounter32 blocksResent) {
 		this.blocksResent = blocksResent;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1115,6 +1165,7 @@ public class Stats {
 	 */
 	public void  setBlocksErrorsReceived(StatsCounter32 blocksErrorsReceived) {
 		this.blocksErrorsReceived = blocksErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1136,6 +1187,7 @@ public class Stats {
 	 */
 	public Stats withBlocksErrorsReceived(StatsCounter32 blocksErrorsReceived) {
 		this.blocksErrorsReceived = blocksErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.ghn.diagnostics;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ghn.diagnostics.phythroughput.Result;
 
@@ -75,6 +77,11 @@ public class PHYThroughput {
 	@XmlElement(name = "Result")
 	public Collection<Result> results;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PHYThroughput() {
 	}
 
@@ -97,6 +104,7 @@ public class PHYThroughput {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +116,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -129,6 +138,7 @@ public class PHYThroughput {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -140,6 +150,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +176,7 @@ public class PHYThroughput {
 	 */
 	public void  setDiagnoseMACAddress(MACAddress diagnoseMACAddress) {
 		this.diagnoseMACAddress = diagnoseMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -178,6 +190,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withDiagnoseMACAddress(MACAddress diagnoseMACAddress) {
 		this.diagnoseMACAddress = diagnoseMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -187,10 +200,20 @@ public class PHYThroughput {
 	 * @return the value
 	 */
 	public Collection<Result> getResults() {
-		if (this.results == null){ this.results=new ArrayList<>();}
+		if (!(this.results instanceof InstanceTable)){ this.results=InstanceTable.of(this.results);}
 		return results;
 	}
 
+	/**
+	 * Read the phy throughput diagnostics results.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Result> viewResults() {
+		return results == null ? Collections.emptyList() : results;
+	}
+
 	/**
 	 * Set the phy throughput diagnostics results.
 	 *
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ghn.diagnostics.performancemonitoring.Channels;
 import org.broadbandforum.tr181.device.ghn.diagnostics.performancemonitoring.Nodes;
@@ -107,6 +108,11 @@ public class PerformanceMonitoring {
 	@XmlElement(name = "Channels")
 	public Channels channels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PerformanceMonitoring() {
 	}
 
@@ -129,6 +135,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -140,6 +147,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -161,6 +169,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -172,6 +181,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -197,6 +207,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  setDiagnoseMACAddress(MACAddress diagnoseMACAddress) {
 		this.diagnoseMACAddress = diagnoseMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +221,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring withDiagnoseMACAddress(MACAddress diagnoseMACAddress) {
 		this.diagnoseMACAddress = diagnoseMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -239,6 +251,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  setSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -254,6 +267,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring withSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -275,6 +289,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  setSnrGroupLength(Long snrGroupLength) {
 		this.snrGroupLength = snrGroupLength;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -286,6 +301,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring withSnrGroupLength(Long snrGroupLength) {
 		this.snrGroupLength = snrGroupLength;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -16,15 +16,19 @@
 package org.broadbandforum.tr181.device.ghn.diagnostics.performancemonitoring;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.ghn.diagnostics.performancemonitoring.channels.Channel;
 
 	/**
@@ -46,6 +50,7 @@ public class Channels {
 	 * @since 2.8
 	 */
 	@XmlElement(name = "TimeStamp")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime timeStamp;
 	/**
 	 * Per-channel G.hn performance monitoring results during the current sample interval. Each table entry contains the results collected from the channel between a G.hn interface (as indicated by {{param|##.DiagnoseMACAddress}}) and a G.hn interface indicated by {{param|DestinationMACAddress}})
@@ -54,6 +59,11 @@ public class Channels {
 	@XmlElement(name = "Channel")
 	public Collection<Channel> channels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Channels() {
 	}
 
@@ -76,6 +86,7 @@ public class Channels {
 	 */
 	public void  setTimeStamp(LocalDateTime timeStamp) {
 		this.timeStamp = timeStamp;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +98,7 @@ public class Channels {
 	 */
 	public Channels withTimeStamp(LocalDateTime timeStamp) {
 		this.timeStamp = timeStamp;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -96,10 +108,20 @@ public class Channels {
 	 * @return the value
 	 */
 	public Collection<Channel> getChannels() {
-		if (this.channels == null){ this.channels=new ArrayList<>();}
+		if (!(this.channels instanceof InstanceTable)){ this.channels=InstanceTable.of(this.channels);}
 		return channels;
 	}
 
+	/**
+	 * Read the per-channel G.hn performance monitoring results during the current sample interval. Each table entry contains the results collected from the channel between a G.hn interface (as indicated by {{param|##.DiagnoseMACAddress}}) and a G.hn interface indicated by {{param|DestinationMACAddress}})
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Channel> viewChannels() {
+		return channels == null ? Collections.emptyList() : channels;
+	}
+
 	/**
 	 * Set the per-channel G.hn performance monitoring results during the current sample interval. Each table entry contains the results collected from the channel between a G.hn interface (as indicated by {{param|##.DiagnoseMACAddress}}) and a G.hn interface indicated by {{param|DestinationMACAddress}})
 	 *
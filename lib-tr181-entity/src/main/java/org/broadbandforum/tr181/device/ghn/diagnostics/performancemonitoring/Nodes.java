@@ -16,16 +16,20 @@
 package org.broadbandforum.tr181.device.ghn.diagnostics.performancemonitoring;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.ghn.diagnostics.performancemonitoring.nodes.Node;
 
 	/**
@@ -55,6 +59,7 @@ public class Nodes {
 	 * @since 2.8
 	 */
 	@XmlElement(name = "CurrentStart")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime currentStart;
 	/**
 	 * End time for the current interval.
@@ -66,6 +71,7 @@ public class Nodes {
 	 * @since 2.8
 	 */
 	@XmlElement(name = "CurrentEnd")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime currentEnd;
 	/**
 	 * Per-node G.hn performance monitoring results during the current sample interval. Each table entry contains the results collected between the G.hn nodes with MAC addresses {{param|##.DiagnoseMACAddress}}) and {{param|DestinationMACAddress}}).
@@ -77,6 +83,11 @@ public class Nodes {
 	@CWMPParameter(minEntries = 1)
 	public Collection<Node> nodes;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Nodes() {
 	}
 
@@ -107,6 +118,7 @@ public class Nodes {
 	 */
 	public void  setCurrentStart(LocalDateTime currentStart) {
 		this.currentStart = currentStart;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +134,7 @@ public class Nodes {
 	 */
 	public Nodes withCurrentStart(LocalDateTime currentStart) {
 		this.currentStart = currentStart;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -151,6 +164,7 @@ public class Nodes {
 	 */
 	public void  setCurrentEnd(LocalDateTime currentEnd) {
 		this.currentEnd = currentEnd;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -166,6 +180,7 @@ public class Nodes {
 	 */
 	public Nodes withCurrentEnd(LocalDateTime currentEnd) {
 		this.currentEnd = currentEnd;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -177,10 +192,22 @@ public class Nodes {
 	 * @return the value
 	 */
 	public Collection<Node> getNodes() {
-		if (this.nodes == null){ this.nodes=new ArrayList<>();}
+		if (!(this.nodes instanceof InstanceTable)){ this.nodes=InstanceTable.of(this.nodes);}
 		return nodes;
 	}
 
+	/**
+	 * Read the per-node G.hn performance monitoring results during the current sample interval. Each table entry contains the results collected between the G.hn nodes with MAC addresses {{param|##.DiagnoseMACAddress}}) and {{param|DestinationMACAddress}}).
+
+        Note: Packet counters indicate the number of packets received between {{param|#.CurrentStart}} and {{param|#.CurrentEnd}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Node> viewNodes() {
+		return nodes == null ? Collections.emptyList() : nodes;
+	}
+
 	/**
 	 * Set the per-node G.hn performance monitoring results during the current sample interval. Each table entry contains the results collected between the G.hn nodes with MAC addresses {{param|##.DiagnoseMACAddress}}) and {{param|DestinationMACAddress}}).
 
@@ -18,6 +18,8 @@ package org.broadbandforum.tr181.device.ghn.diagnostics.performancemonitoring.ch
 import javax.xml.bind.annotation.*;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 /**
@@ -55,6 +57,16 @@ public class Channel {
   @XmlElement(name = "SNR")
   public Long snr;
 
+  /**
+   * The changed parameters, null unless the object is tracked.
+   */
+  transient DirtyBits dirty;
+
+  /**
+   * The table indexing this row by its unique keys, null unless indexed.
+   */
+  transient InstanceTable<?> table;
+
   public Channel() {
   }
 
@@ -77,6 +89,12 @@ public class Channel {
    */
   public void setDestinationMACAddress(MACAddress destinationMACAddress) {
     this.destinationMACAddress = destinationMACAddress;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -88,6 +106,12 @@ public class Channel {
    */
   public Channel withDestinationMACAddress(MACAddress destinationMACAddress) {
     this.destinationMACAddress = destinationMACAddress;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -121,6 +145,9 @@ public class Channel {
    */
   public void setSnr(Long snr) {
     this.snr = snr;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
   }
 
   /**
@@ -138,6 +165,9 @@ public class Channel {
    */
   public Channel withSnr(Long snr) {
     this.snr = snr;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
     return this;
   }
 
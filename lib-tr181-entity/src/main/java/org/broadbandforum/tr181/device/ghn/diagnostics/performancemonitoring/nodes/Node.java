@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
@@ -246,6 +248,16 @@ public class Node {
 	@CWMPParameter(activeNotify = "canDeny")
 	public StatsCounter32 blocksErrorsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Node() {
 	}
 
@@ -268,6 +280,8 @@ public class Node {
 	 */
 	public void  setDestinationMACAddress(MACAddress destinationMACAddress) {
 		this.destinationMACAddress = destinationMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -279,6 +293,8 @@ public class Node {
 	 */
 	public Node withDestinationMACAddress(MACAddress destinationMACAddress) {
 		this.destinationMACAddress = destinationMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -304,6 +320,7 @@ public class Node {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -317,6 +334,7 @@ public class Node {
 	 */
 	public Node withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -342,6 +360,7 @@ public class Node {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -355,6 +374,7 @@ public class Node {
 	 */
 	public Node withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -376,6 +396,7 @@ public class Node {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -387,6 +408,7 @@ public class Node {
 	 */
 	public Node withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -408,6 +430,7 @@ public class Node {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -419,6 +442,7 @@ public class Node {
 	 */
 	public Node withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -440,6 +464,7 @@ public class Node {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -451,6 +476,7 @@ public class Node {
 	 */
 	public Node withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -472,6 +498,7 @@ public class Node {
 	 */
 	public void  setErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -483,6 +510,7 @@ public class Node {
 	 */
 	public Node withErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -504,6 +532,7 @@ public class Node {
 	 */
 	public void  setUnicastPacketsSent(StatsCounter64 unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -515,6 +544,7 @@ public class Node {
 	 */
 	public Node withUnicastPacketsSent(StatsCounter64 unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -536,6 +566,7 @@ public class Node {
 	 */
 	public void  setUnicastPacketsReceived(StatsCounter64 unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -547,6 +578,7 @@ public class Node {
 	 */
 	public Node withUnicastPacketsReceived(StatsCounter64 unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -568,6 +600,7 @@ public class Node {
 	 */
 	public void  setDiscardPacketsSent(StatsCounter32 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -579,6 +612,7 @@ public class Node {
 	 */
 	public Node withDiscardPacketsSent(StatsCounter32 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -600,6 +634,7 @@ public class Node {
 	 */
 	public void  setDiscardPacketsReceived(StatsCounter32 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -611,6 +646,7 @@ public class Node {
 	 */
 	public Node withDiscardPacketsReceived(StatsCounter32 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -632,6 +668,7 @@ public class Node {
 	 */
 	public void  setMulticastPacketsSent(StatsCounter64 multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -643,6 +680,7 @@ public class Node {
 	 */
 	public Node withMulticastPacketsSent(StatsCounter64 multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -664,6 +702,7 @@ public class Node {
 	 */
 	public void  setMulticastPacketsReceived(StatsCounter64 multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -675,6 +714,7 @@ public class Node {
 	 */
 	public Node withMulticastPacketsReceived(StatsCounter64 multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -696,6 +736,7 @@ public class Node {
 	 */
 	public void  setBroadcastPacketsSent(StatsCounter64 broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -707,6 +748,7 @@ public class Node {
 	 */
 	public Node withBroadcastPacketsSent(StatsCounter64 broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -728,6 +770,7 @@ public class Node {
 	 */
 	public void  setBroadcastPacketsReceived(StatsCounter64 broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -739,6 +782,7 @@ public class Node {
 	 */
 	public Node withBroadcastPacketsReceived(StatsCounter64 broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -760,6 +804,7 @@ public class Node {
 	 */
 	public void  setUnknownProtoPacketsReceived(StatsCounter32 unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -771,6 +816,7 @@ public class Node {
 	 */
 	public Node withUnknownProtoPacketsReceived(StatsCounter32 unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -792,6 +838,7 @@ public class Node {
 	 */
 	public void  setMgmtBytesSent(StatsCounter64 mgmtBytesSent) {
 		this.mgmtBytesSent = mgmtBytesSent;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -803,6 +850,7 @@ public class Node {
 	 */
 	public Node withMgmtBytesSent(StatsCounter64 mgmtBytesSent) {
 		this.mgmtBytesSent = mgmtBytesSent;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -824,6 +872,7 @@ public class Node {
 	 */
 	public void  setMgmtBytesReceived(StatsCounter64 mgmtBytesReceived) {
 		this.mgmtBytesReceived = mgmtBytesReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -835,6 +884,7 @@ public class Node {
 	 */
 	public Node withMgmtBytesReceived(StatsCounter64 mgmtBytesReceived) {
 		this.mgmtBytesReceived = mgmtBytesReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -856,6 +906,7 @@ public class Node {
 	 */
 	public void  setMgmtPacketsSent(StatsCounter64 mgmtPacketsSent) {
 		this.mgmtPacketsSent = mgmtPacketsSent;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -867,6 +918,7 @@ public class Node {
 	 */
 	public Node withMgmtPacketsSent(StatsCounter64 mgmtPacketsSent) {
 		this.mgmtPacketsSent = mgmtPacketsSent;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -888,6 +940,7 @@ public class Node {
 	 */
 	public void  setMgmtPacketsReceived(StatsCounter64 mgmtPacketsReceived) {
 		this.mgmtPacketsReceived = mgmtPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -899,6 +952,7 @@ public class Node {
 	 */
 	public Node withMgmtPacketsReceived(StatsCounter64 mgmtPacketsReceived) {
 		this.mgmtPacketsReceived = mgmtPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -920,6 +974,7 @@ public class Node {
 	 */
 	public void  setBlocksSent(StatsCounter64 blocksSent) {
 		this.blocksSent = blocksSent;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -931,6 +986,7 @@ public class Node {
 	 */
 	public Node withBlocksSent(StatsCounter64 blocksSent) {
 		this.blocksSent = blocksSent;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -952,6 +1008,7 @@ public class Node {
 	 */
 	public void  setBlocksReceived(StatsCounter64 blocksReceived) {
 		this.blocksReceived = blocksReceived;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -963,6 +1020,7 @@ public class Node {
 	 */
 	public Node withBlocksReceived(StatsCounter64 blocksReceived) {
 		this.blocksReceived = blocksReceived;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -984,6 +1042,7 @@ public class Node {
 	 */
 	public void  setBlocksResent(StatsCounter32 blocksResent) {
 		this.blocksResent = blocksResent;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -995,6 +1054,7 @@ public class Node {
 	 */
 	public Node withBlocksResent(StatsCounter32 blocksResent) {
 		this.blocksResent = blocksResent;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1036,6 +1096,7 @@ public class Node {
 	 */
 	public void  setBlocksErrorsReceived(StatsCounter32 blocksErrorsReceived) {
 		this.blocksErrorsReceived = blocksErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1057,6 +1118,7 @@ public class Node {
 	 */
 	public Node withBlocksErrorsReceived(StatsCounter32 blocksErrorsReceived) {
 		this.blocksErrorsReceived = blocksErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -67,6 +69,16 @@ public class Result {
 	@CWMPParameter(activeNotify = "canDeny", units = "Mbps")
 	public Long rxphyRate;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Result() {
 	}
 
@@ -89,6 +101,8 @@ public class Result {
 	 */
 	public void  setDestinationMACAddress(MACAddress destinationMACAddress) {
 		this.destinationMACAddress = destinationMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -100,6 +114,8 @@ public class Result {
 	 */
 	public Result withDestinationMACAddress(MACAddress destinationMACAddress) {
 		this.destinationMACAddress = destinationMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -121,6 +137,7 @@ public class Result {
 	 */
 	public void  setLinkState(String linkState) {
 		this.linkState = linkState;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +149,7 @@ public class Result {
 	 */
 	public Result withLinkState(String linkState) {
 		this.linkState = linkState;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -153,6 +171,7 @@ public class Result {
 	 */
 	public void  setTxphyRate(Long txphyRate) {
 		this.txphyRate = txphyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -164,6 +183,7 @@ public class Result {
 	 */
 	public Result withTxphyRate(Long txphyRate) {
 		this.txphyRate = txphyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,6 +205,7 @@ public class Result {
 	 */
 	public void  setRxphyRate(Long rxphyRate) {
 		this.rxphyRate = rxphyRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -196,6 +217,7 @@ public class Result {
 	 */
 	public Result withRxphyRate(Long rxphyRate) {
 		this.rxphyRate = rxphyRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
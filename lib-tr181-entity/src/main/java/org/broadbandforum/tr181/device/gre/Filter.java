@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * GRE Filter table. Entries in this table are applied against the packets that are to be encapsulated within the GRE Tunnel based on the following conditions:
@@ -141,6 +143,16 @@ public class Filter {
 	@Size(min = -2, max = 63)
 	public Integer dscPMarkPolicy;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Filter() {
 	}
 
@@ -163,6 +175,7 @@ public class Filter {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -174,6 +187,7 @@ public class Filter {
 	 */
 	public Filter withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -203,6 +217,7 @@ public class Filter {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -218,6 +233,7 @@ public class Filter {
 	 */
 	public Filter withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -247,6 +263,7 @@ public class Filter {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -262,6 +279,7 @@ public class Filter {
 	 */
 	public Filter withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -283,6 +301,8 @@ public class Filter {
 	 */
 	public void  setAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -294,6 +314,8 @@ public class Filter {
 	 */
 	public Filter withAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -315,6 +337,7 @@ public class Filter {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -326,6 +349,7 @@ public class Filter {
 	 */
 	public Filter with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -347,6 +371,7 @@ public class Filter {
 	 */
 	public void  setAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -358,6 +383,7 @@ public class Filter {
 	 */
 	public Filter withAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -383,6 +409,7 @@ public class Filter {
 	 */
 	public void  setVlaNIDCheck(Integer vlaNIDCheck) {
 		this.vlaNIDCheck = vlaNIDCheck;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -396,6 +423,7 @@ public class Filter {
 	 */
 	public Filter withVlaNIDCheck(Integer vlaNIDCheck) {
 		this.vlaNIDCheck = vlaNIDCheck;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -421,6 +449,7 @@ public class Filter {
 	 */
 	public void  setVlaNIDExclude(Boolean vlaNIDExclude) {
 		this.vlaNIDExclude = vlaNIDExclude;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -434,6 +463,7 @@ public class Filter {
 	 */
 	public Filter withVlaNIDExclude(Boolean vlaNIDExclude) {
 		this.vlaNIDExclude = vlaNIDExclude;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -467,6 +497,7 @@ public class Filter {
 	 */
 	public void  setDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -484,6 +515,7 @@ public class Filter {
 	 */
 	public Filter withDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
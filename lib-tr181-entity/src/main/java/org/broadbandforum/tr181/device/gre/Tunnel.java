@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.gre;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.gre.tunnel.Interface;
 import org.broadbandforum.tr181.device.gre.tunnel.Stats;
 
@@ -139,6 +142,16 @@ public class Tunnel {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Interface> interfaces;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Tunnel() {
 	}
 
@@ -161,6 +174,7 @@ public class Tunnel {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -172,6 +186,7 @@ public class Tunnel {
 	 */
 	public Tunnel withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -193,6 +208,7 @@ public class Tunnel {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -204,6 +220,7 @@ public class Tunnel {
 	 */
 	public Tunnel withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -225,6 +242,8 @@ public class Tunnel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -236,6 +255,8 @@ public class Tunnel {
 	 */
 	public Tunnel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -250,6 +271,17 @@ public class Tunnel {
 		return remoteEndpoints;
 	}
 
+	/**
+	 * Read the Fully Qualified Domain Name (FQDN) or IP address of the remote GRE tunnel endpoint. If more than one name/address is supplied, they will be tried in turn, i.e. they are in decreasing order of precedence.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemoteEndpoints() {
+		return remoteEndpoints == null ? Collections.emptyList() : remoteEndpoints;
+	}
+
 	/**
 	 * Set the Fully Qualified Domain Name (FQDN) or IP address of the remote GRE tunnel endpoint. If more than one name/address is supplied, they will be tried in turn, i.e. they are in decreasing order of precedence.
 	 *
@@ -258,6 +290,7 @@ public class Tunnel {
 	 */
 	public void  setRemoteEndpoints(Collection<String> remoteEndpoints) {
 		this.remoteEndpoints = remoteEndpoints;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -269,6 +302,7 @@ public class Tunnel {
 	 */
 	public Tunnel withRemoteEndpoints(String string) {
 		getRemoteEndpoints().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -290,6 +324,7 @@ public class Tunnel {
 	 */
 	public void  setKeepAlivePolicy(String keepAlivePolicy) {
 		this.keepAlivePolicy = keepAlivePolicy;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -301,6 +336,7 @@ public class Tunnel {
 	 */
 	public Tunnel withKeepAlivePolicy(String keepAlivePolicy) {
 		this.keepAlivePolicy = keepAlivePolicy;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -322,6 +358,7 @@ public class Tunnel {
 	 */
 	public void  setKeepAliveTimeout(Long keepAliveTimeout) {
 		this.keepAliveTimeout = keepAliveTimeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -333,6 +370,7 @@ public class Tunnel {
 	 */
 	public Tunnel withKeepAliveTimeout(Long keepAliveTimeout) {
 		this.keepAliveTimeout = keepAliveTimeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -354,6 +392,7 @@ public class Tunnel {
 	 */
 	public void  setKeepAliveThreshold(Long keepAliveThreshold) {
 		this.keepAliveThreshold = keepAliveThreshold;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -365,6 +404,7 @@ public class Tunnel {
 	 */
 	public Tunnel withKeepAliveThreshold(Long keepAliveThreshold) {
 		this.keepAliveThreshold = keepAliveThreshold;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -386,6 +426,7 @@ public class Tunnel {
 	 */
 	public void  setDeliveryHeaderProtocol(String deliveryHeaderProtocol) {
 		this.deliveryHeaderProtocol = deliveryHeaderProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -397,6 +438,7 @@ public class Tunnel {
 	 */
 	public Tunnel withDeliveryHeaderProtocol(String deliveryHeaderProtocol) {
 		this.deliveryHeaderProtocol = deliveryHeaderProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -418,6 +460,7 @@ public class Tunnel {
 	 */
 	public void  setDefaultDSCPMark(Long defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -429,6 +472,7 @@ public class Tunnel {
 	 */
 	public Tunnel withDefaultDSCPMark(Long defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -450,6 +494,7 @@ public class Tunnel {
 	 */
 	public void  setConnectedRemoteEndpoint(String connectedRemoteEndpoint) {
 		this.connectedRemoteEndpoint = connectedRemoteEndpoint;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -461,6 +506,7 @@ public class Tunnel {
 	 */
 	public Tunnel withConnectedRemoteEndpoint(String connectedRemoteEndpoint) {
 		this.connectedRemoteEndpoint = connectedRemoteEndpoint;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -505,10 +551,20 @@ public class Tunnel {
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the gre Interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). The {{object}} object models the GRE Header as defined in {{bibref|RFC2784}} and extensions to the GRE Header as defined in {{bibref|RFC2890}}. The {{object}} object provides a way to discriminate how sessions or flows are encapsulated within the GRE Tunnel. In addition the {{object}} object represents the entry point and exit point of the tunnel in relation to the LAN interface. Unless the Key Identifier of {{bibref|RFC2890}} is supported there is only one instance of this {{object}} object per tunnel.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the gre Interface table (a stackable interface object as described in {{bibref|TR-181i2|Section 4.2}}). The {{object}} object models the GRE Header as defined in {{bibref|RFC2784}} and extensions to the GRE Header as defined in {{bibref|RFC2890}}. The {{object}} object provides a way to discriminate how sessions or flows are encapsulated within the GRE Tunnel. In addition the {{object}} object represents the entry point and exit point of the tunnel in relation to the LAN interface. Unless the Key Identifier of {{bibref|RFC2890}} is supported there is only one instance of this {{object}} object per tunnel.
 	 *
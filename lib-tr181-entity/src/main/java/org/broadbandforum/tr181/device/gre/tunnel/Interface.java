@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.gre.tunnel;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.gre.tunnel._interface.Stats;
 
 	/**
@@ -147,6 +150,16 @@ public class Interface {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -173,6 +186,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -186,6 +200,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -219,6 +234,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -236,6 +252,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -257,6 +274,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -268,6 +287,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -289,6 +310,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -300,6 +323,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -321,6 +346,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -332,6 +358,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -346,6 +373,17 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 	 *
@@ -354,6 +392,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -365,6 +404,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -386,6 +426,7 @@ public class Interface {
 	 */
 	public void  setProtocolIdOverride(Long protocolIdOverride) {
 		this.protocolIdOverride = protocolIdOverride;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -397,6 +438,7 @@ public class Interface {
 	 */
 	public Interface withProtocolIdOverride(Long protocolIdOverride) {
 		this.protocolIdOverride = protocolIdOverride;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -418,6 +460,7 @@ public class Interface {
 	 */
 	public void  setUseChecksum(Boolean useChecksum) {
 		this.useChecksum = useChecksum;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -429,6 +472,7 @@ public class Interface {
 	 */
 	public Interface withUseChecksum(Boolean useChecksum) {
 		this.useChecksum = useChecksum;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -450,6 +494,7 @@ public class Interface {
 	 */
 	public void  setKeyIdentifierGenerationPolicy(String keyIdentifierGenerationPolicy) {
 		this.keyIdentifierGenerationPolicy = keyIdentifierGenerationPolicy;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -461,6 +506,7 @@ public class Interface {
 	 */
 	public Interface withKeyIdentifierGenerationPolicy(String keyIdentifierGenerationPolicy) {
 		this.keyIdentifierGenerationPolicy = keyIdentifierGenerationPolicy;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -482,6 +528,7 @@ public class Interface {
 	 */
 	public void  setKeyIdentifier(Long keyIdentifier) {
 		this.keyIdentifier = keyIdentifier;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -493,6 +540,7 @@ public class Interface {
 	 */
 	public Interface withKeyIdentifier(Long keyIdentifier) {
 		this.keyIdentifier = keyIdentifier;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -514,6 +562,7 @@ public class Interface {
 	 */
 	public void  setUseSequenceNumber(Boolean useSequenceNumber) {
 		this.useSequenceNumber = useSequenceNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -525,6 +574,7 @@ public class Interface {
 	 */
 	public Interface withUseSequenceNumber(Boolean useSequenceNumber) {
 		this.useSequenceNumber = useSequenceNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
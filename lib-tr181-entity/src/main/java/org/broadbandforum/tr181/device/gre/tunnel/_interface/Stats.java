@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -94,6 +95,11 @@ public class Stats {
 	@XmlElement(name = "DiscardSequenceNumberReceived")
 	public StatsCounter32 discardSequenceNumberReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -116,6 +122,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -127,6 +134,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -148,6 +156,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -159,6 +168,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -180,6 +190,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -191,6 +202,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -212,6 +224,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -223,6 +236,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -244,6 +258,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -255,6 +270,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -276,6 +292,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -287,6 +304,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -308,6 +326,7 @@ public class Stats {
 	 */
 	public void  setDiscardChecksumReceived(StatsCounter32 discardChecksumReceived) {
 		this.discardChecksumReceived = discardChecksumReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -319,6 +338,7 @@ public class Stats {
 	 */
 	public Stats withDiscardChecksumReceived(StatsCounter32 discardChecksumReceived) {
 		this.discardChecksumReceived = discardChecksumReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -340,6 +360,7 @@ public class Stats {
 	 */
 	public void  setDiscardSequenceNumberReceived(StatsCounter32 discardSequenceNumberReceived) {
 		this.discardSequenceNumberReceived = discardSequenceNumberReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -351,6 +372,7 @@ public class Stats {
 	 */
 	public Stats withDiscardSequenceNumberReceived(StatsCounter32 discardSequenceNumberReceived) {
 		this.discardSequenceNumberReceived = discardSequenceNumberReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
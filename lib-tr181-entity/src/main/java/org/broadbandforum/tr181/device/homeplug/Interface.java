@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.homeplug;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.homeplug._interface.AssociatedDevice;
 import org.broadbandforum.tr181.device.homeplug._interface.Stats;
@@ -214,6 +217,16 @@ public class Interface {
 	@XmlElement(name = "AssociatedDevice")
 	public Collection<AssociatedDevice> associatedDevices;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -240,6 +253,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -253,6 +267,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -286,6 +301,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -303,6 +319,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -324,6 +341,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -335,6 +354,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -356,6 +377,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -367,6 +390,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -388,6 +413,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -399,6 +425,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -415,6 +442,19 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -425,6 +465,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -438,6 +479,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -475,6 +517,7 @@ public class Interface {
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -494,6 +537,7 @@ public class Interface {
 	 */
 	public Interface withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -519,6 +563,7 @@ public class Interface {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -532,6 +577,7 @@ public class Interface {
 	 */
 	public Interface withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -553,6 +599,7 @@ public class Interface {
 	 */
 	public void  setLogicalNetwork(String logicalNetwork) {
 		this.logicalNetwork = logicalNetwork;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -564,6 +611,7 @@ public class Interface {
 	 */
 	public Interface withLogicalNetwork(String logicalNetwork) {
 		this.logicalNetwork = logicalNetwork;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -593,6 +641,7 @@ public class Interface {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -608,6 +657,7 @@ public class Interface {
 	 */
 	public Interface withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -629,6 +679,7 @@ public class Interface {
 	 */
 	public void  setFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -640,6 +691,7 @@ public class Interface {
 	 */
 	public Interface withFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -669,6 +721,7 @@ public class Interface {
 	 */
 	public void  setForceCCo(Boolean forceCCo) {
 		this.forceCCo = forceCCo;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -684,6 +737,7 @@ public class Interface {
 	 */
 	public Interface withForceCCo(Boolean forceCCo) {
 		this.forceCCo = forceCCo;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -705,6 +759,7 @@ public class Interface {
 	 */
 	public void  setNetworkPassword(String networkPassword) {
 		this.networkPassword = networkPassword;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -716,6 +771,7 @@ public class Interface {
 	 */
 	public Interface withNetworkPassword(String networkPassword) {
 		this.networkPassword = networkPassword;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -736,6 +792,23 @@ public class Interface {
 		return otherNetworksPresent;
 	}
 
+	/**
+	 * Read the {{list}} Indicates whether any other HomePlug networks are currently visible via this interface. Examples of valid list items include, but are not limited to: 
+
+          : "HomePlugAV"
+
+          : "HomePlug1.0"
+
+          : "Other"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOtherNetworksPresent() {
+		return otherNetworksPresent == null ? Collections.emptyList() : otherNetworksPresent;
+	}
+
 	/**
 	 * Set the {{list}} Indicates whether any other HomePlug networks are currently visible via this interface. Examples of valid list items include, but are not limited to: 
 
@@ -750,6 +823,7 @@ public class Interface {
 	 */
 	public void  setOtherNetworksPresent(Collection<String> otherNetworksPresent) {
 		this.otherNetworksPresent = otherNetworksPresent;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -767,6 +841,7 @@ public class Interface {
 	 */
 	public Interface withOtherNetworksPresent(String string) {
 		getOtherNetworksPresent().add(string);
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -788,6 +863,7 @@ public class Interface {
 	 */
 	public void  setMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -799,6 +875,7 @@ public class Interface {
 	 */
 	public Interface withMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -843,10 +920,20 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<AssociatedDevice> getAssociatedDevices() {
-		if (this.associatedDevices == null){ this.associatedDevices=new ArrayList<>();}
+		if (!(this.associatedDevices instanceof InstanceTable)){ this.associatedDevices=InstanceTable.of(this.associatedDevices);}
 		return associatedDevices;
 	}
 
+	/**
+	 * Read the this table contains information about other HomePlug devices connected to this HomePlug interface.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AssociatedDevice> viewAssociatedDevices() {
+		return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+	}
+
 	/**
 	 * Set the this table contains information about other HomePlug devices connected to this HomePlug interface.
 	 *
@@ -22,6 +22,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -89,6 +91,16 @@ public class AssociatedDevice {
 	@XmlElement(name = "Active")
 	public Boolean active;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -111,6 +123,8 @@ public class AssociatedDevice {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -122,6 +136,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -143,6 +159,7 @@ public class AssociatedDevice {
 	 */
 	public void  setTxphyRate(Long txphyRate) {
 		this.txphyRate = txphyRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +171,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withTxphyRate(Long txphyRate) {
 		this.txphyRate = txphyRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -175,6 +193,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRxphyRate(Long rxphyRate) {
 		this.rxphyRate = rxphyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +205,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRxphyRate(Long rxphyRate) {
 		this.rxphyRate = rxphyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -207,6 +227,7 @@ public class AssociatedDevice {
 	 */
 	public void  setSnrPerTone(Long snrPerTone) {
 		this.snrPerTone = snrPerTone;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -218,6 +239,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withSnrPerTone(Long snrPerTone) {
 		this.snrPerTone = snrPerTone;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -239,6 +261,7 @@ public class AssociatedDevice {
 	 */
 	public void  setAvgAttenuation(Long avgAttenuation) {
 		this.avgAttenuation = avgAttenuation;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -250,6 +273,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAvgAttenuation(Long avgAttenuation) {
 		this.avgAttenuation = avgAttenuation;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -275,6 +299,7 @@ public class AssociatedDevice {
 	 */
 	public void  setEndStationMACs(MACAddress endStationMACs) {
 		this.endStationMACs = endStationMACs;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -288,6 +313,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withEndStationMACs(MACAddress endStationMACs) {
 		this.endStationMACs = endStationMACs;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -313,6 +339,7 @@ public class AssociatedDevice {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -326,6 +353,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
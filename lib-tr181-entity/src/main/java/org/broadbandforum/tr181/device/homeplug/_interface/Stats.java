@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Throughput statistics for this interface.
@@ -192,6 +193,11 @@ public class Stats {
 	@XmlElement(name = "MPDURxFailed")
 	public Long mpdURxFailed;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -214,6 +220,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -225,6 +232,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -246,6 +254,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -257,6 +266,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -278,6 +288,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -289,6 +300,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -310,6 +322,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -321,6 +334,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -342,6 +356,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -353,6 +368,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -374,6 +390,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -385,6 +402,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -406,6 +424,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -417,6 +436,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -438,6 +458,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -449,6 +470,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -470,6 +492,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -481,6 +504,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -502,6 +526,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -513,6 +538,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -534,6 +560,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -545,6 +572,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -566,6 +594,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -577,6 +606,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -598,6 +628,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -609,6 +640,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -630,6 +662,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -641,6 +674,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -662,6 +696,7 @@ public class Stats {
 	 */
 	public void  setUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -673,6 +708,7 @@ public class Stats {
 	 */
 	public Stats withUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -694,6 +730,7 @@ public class Stats {
 	 */
 	public void  setMpdUTxAck(Long mpdUTxAck) {
 		this.mpdUTxAck = mpdUTxAck;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -705,6 +742,7 @@ public class Stats {
 	 */
 	public Stats withMpdUTxAck(Long mpdUTxAck) {
 		this.mpdUTxAck = mpdUTxAck;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -726,6 +764,7 @@ public class Stats {
 	 */
 	public void  setMpdUTxCol(Long mpdUTxCol) {
 		this.mpdUTxCol = mpdUTxCol;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -737,6 +776,7 @@ public class Stats {
 	 */
 	public Stats withMpdUTxCol(Long mpdUTxCol) {
 		this.mpdUTxCol = mpdUTxCol;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -758,6 +798,7 @@ public class Stats {
 	 */
 	public void  setMpdUTxFailed(Long mpdUTxFailed) {
 		this.mpdUTxFailed = mpdUTxFailed;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -769,6 +810,7 @@ public class Stats {
 	 */
 	public Stats withMpdUTxFailed(Long mpdUTxFailed) {
 		this.mpdUTxFailed = mpdUTxFailed;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -790,6 +832,7 @@ public class Stats {
 	 */
 	public void  setMpdURxAck(Long mpdURxAck) {
 		this.mpdURxAck = mpdURxAck;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -801,6 +844,7 @@ public class Stats {
 	 */
 	public Stats withMpdURxAck(Long mpdURxAck) {
 		this.mpdURxAck = mpdURxAck;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -822,6 +866,7 @@ public class Stats {
 	 */
 	public void  setMpdURxFailed(Long mpdURxFailed) {
 		this.mpdURxFailed = mpdURxFailed;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -833,6 +878,7 @@ public class Stats {
 	 */
 	public Stats withMpdURxFailed(Long mpdURxFailed) {
 		this.mpdURxFailed = mpdURxFailed;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
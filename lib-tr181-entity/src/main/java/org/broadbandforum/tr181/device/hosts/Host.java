@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.hosts;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,10 +27,14 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.hosts.host.IPv4Address;
 import org.broadbandforum.tr181.device.hosts.host.IPv6Address;
 
@@ -196,6 +201,7 @@ public class Host {
 	 * @since 2.10
 	 */
 	@XmlElement(name = "ActiveLastChange")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime activeLastChange;
 	/**
 	 * The host's known IPv4 addresses.  This includes any addresses assigned via DHCP, which can also be accessed via the {{param|#.DHCPClient}} reference.
@@ -210,6 +216,16 @@ public class Host {
 	@XmlElement(name = "IPv6Address")
 	public Collection<IPv6Address> ipv6Addresss;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Host() {
 	}
 
@@ -236,6 +252,8 @@ public class Host {
 	 */
 	public void  setAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -249,6 +267,8 @@ public class Host {
 	 */
 	public Host withAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -270,6 +290,8 @@ public class Host {
 	 */
 	public void  setPhysAddress(String physAddress) {
 		this.physAddress = physAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -281,6 +303,8 @@ public class Host {
 	 */
 	public Host withPhysAddress(String physAddress) {
 		this.physAddress = physAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -306,6 +330,7 @@ public class Host {
 	 */
 	public void  setIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -319,6 +344,7 @@ public class Host {
 	 */
 	public Host withIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -344,6 +370,7 @@ public class Host {
 	 */
 	public void  setAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -357,6 +384,7 @@ public class Host {
 	 */
 	public Host withAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -371,6 +399,17 @@ public class Host {
 		return dhcPClient;
 	}
 
+	/**
+	 * Read the {{reference}} Each list item is the DHCPv4 or DHCPv6 server's client entry that corresponds to the host.
+	 *
+	 * @since 2.2
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDhcPClient() {
+		return dhcPClient == null ? Collections.emptyList() : dhcPClient;
+	}
+
 	/**
 	 * Set the {{reference}} Each list item is the DHCPv4 or DHCPv6 server's client entry that corresponds to the host.
 	 *
@@ -379,6 +418,7 @@ public class Host {
 	 */
 	public void  setDhcPClient(Collection<String> dhcPClient) {
 		this.dhcPClient = dhcPClient;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -390,6 +430,7 @@ public class Host {
 	 */
 	public Host withDhcPClient(String string) {
 		getDhcPClient().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -415,6 +456,7 @@ public class Host {
 	 */
 	public void  setLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -428,6 +470,7 @@ public class Host {
 	 */
 	public Host withLeaseTimeRemaining(Integer leaseTimeRemaining) {
 		this.leaseTimeRemaining = leaseTimeRemaining;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -453,6 +496,7 @@ public class Host {
 	 */
 	public void  setAssociatedDevice(String associatedDevice) {
 		this.associatedDevice = associatedDevice;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -466,6 +510,7 @@ public class Host {
 	 */
 	public Host withAssociatedDevice(String associatedDevice) {
 		this.associatedDevice = associatedDevice;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -491,6 +536,7 @@ public class Host {
 	 */
 	public void  setLayer1Interface(String layer1Interface) {
 		this.layer1Interface = layer1Interface;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -504,6 +550,7 @@ public class Host {
 	 */
 	public Host withLayer1Interface(String layer1Interface) {
 		this.layer1Interface = layer1Interface;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -525,6 +572,7 @@ public class Host {
 	 */
 	public void  setLayer3Interface(String layer3Interface) {
 		this.layer3Interface = layer3Interface;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -536,6 +584,7 @@ public class Host {
 	 */
 	public Host withLayer3Interface(String layer3Interface) {
 		this.layer3Interface = layer3Interface;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -573,6 +622,7 @@ public class Host {
 	 */
 	public void  setVendorClassID(String vendorClassID) {
 		this.vendorClassID = vendorClassID;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -592,6 +642,7 @@ public class Host {
 	 */
 	public Host withVendorClassID(String vendorClassID) {
 		this.vendorClassID = vendorClassID;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -625,6 +676,7 @@ public class Host {
 	 */
 	public void  setClientID(byte[] clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -642,6 +694,7 @@ public class Host {
 	 */
 	public Host withClientID(byte[] clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -675,6 +728,7 @@ public class Host {
 	 */
 	public void  setUserClassID(byte[] userClassID) {
 		this.userClassID = userClassID;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -692,6 +746,7 @@ public class Host {
 	 */
 	public Host withUserClassID(byte[] userClassID) {
 		this.userClassID = userClassID;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -713,6 +768,7 @@ public class Host {
 	 */
 	public void  setHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -724,6 +780,7 @@ public class Host {
 	 */
 	public Host withHostName(String hostName) {
 		this.hostName = hostName;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -749,6 +806,7 @@ public class Host {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -762,6 +820,7 @@ public class Host {
 	 */
 	public Host withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -787,6 +846,7 @@ public class Host {
 	 */
 	public void  setActiveLastChange(LocalDateTime activeLastChange) {
 		this.activeLastChange = activeLastChange;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -800,6 +860,7 @@ public class Host {
 	 */
 	public Host withActiveLastChange(LocalDateTime activeLastChange) {
 		this.activeLastChange = activeLastChange;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -809,10 +870,20 @@ public class Host {
 	 * @return the value
 	 */
 	public Collection<IPv4Address> getIpv4Addresss() {
-		if (this.ipv4Addresss == null){ this.ipv4Addresss=new ArrayList<>();}
+		if (!(this.ipv4Addresss instanceof InstanceTable)){ this.ipv4Addresss=InstanceTable.of(this.ipv4Addresss);}
 		return ipv4Addresss;
 	}
 
+	/**
+	 * Read the host's known IPv4 addresses.  This includes any addresses assigned via DHCP, which can also be accessed via the {{param|#.DHCPClient}} reference.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv4Address> viewIpv4Addresss() {
+		return ipv4Addresss == null ? Collections.emptyList() : ipv4Addresss;
+	}
+
 	/**
 	 * Set the host's known IPv4 addresses.  This includes any addresses assigned via DHCP, which can also be accessed via the {{param|#.DHCPClient}} reference.
 	 *
@@ -839,10 +910,20 @@ public class Host {
 	 * @return the value
 	 */
 	public Collection<IPv6Address> getIpv6Addresss() {
-		if (this.ipv6Addresss == null){ this.ipv6Addresss=new ArrayList<>();}
+		if (!(this.ipv6Addresss instanceof InstanceTable)){ this.ipv6Addresss=InstanceTable.of(this.ipv6Addresss);}
 		return ipv6Addresss;
 	}
 
+	/**
+	 * Read the host's known IPv6 addresses.  This includes any addresses assigned via DHCP, which can also be accessed via the {{param|#.DHCPClient}} reference.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv6Address> viewIpv6Addresss() {
+		return ipv6Addresss == null ? Collections.emptyList() : ipv6Addresss;
+	}
+
 	/**
 	 * Set the host's known IPv6 addresses.  This includes any addresses assigned via DHCP, which can also be accessed via the {{param|#.DHCPClient}} reference.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.hpna;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.hpna._interface.AssociatedDevice;
 import org.broadbandforum.tr181.device.hpna._interface.QoS;
@@ -292,6 +295,16 @@ Enumerated value must be one of [A, B, C, D]
 	@XmlElement(name = "AssociatedDevice")
 	public Collection<AssociatedDevice> associatedDevices;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -318,6 +331,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -331,6 +345,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -364,6 +379,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -381,6 +397,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -402,6 +419,8 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -413,6 +432,8 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -434,6 +455,8 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -445,6 +468,8 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -466,6 +491,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -477,6 +503,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -493,6 +520,19 @@ Enumerated value must be one of [A, B, C, D]
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -503,6 +543,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -516,6 +557,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -553,6 +595,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -572,6 +615,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -597,6 +641,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -610,6 +655,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -631,6 +677,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -642,6 +689,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -663,6 +711,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setNodeID(Long nodeID) {
 		this.nodeID = nodeID;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -674,6 +723,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withNodeID(Long nodeID) {
 		this.nodeID = nodeID;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -695,6 +745,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setIsmaster(Boolean ismaster) {
 		this.ismaster = ismaster;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -706,6 +757,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withIsmaster(Boolean ismaster) {
 		this.ismaster = ismaster;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -727,6 +779,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setSynced(Boolean synced) {
 		this.synced = synced;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -738,6 +791,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withSynced(Boolean synced) {
 		this.synced = synced;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -759,6 +813,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setTotalSyncTime(Long totalSyncTime) {
 		this.totalSyncTime = totalSyncTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -770,6 +825,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withTotalSyncTime(Long totalSyncTime) {
 		this.totalSyncTime = totalSyncTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -791,6 +847,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -802,6 +859,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -823,6 +881,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setNetworkUtilization(Long networkUtilization) {
 		this.networkUtilization = networkUtilization;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -834,6 +893,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withNetworkUtilization(Long networkUtilization) {
 		this.networkUtilization = networkUtilization;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -850,6 +910,19 @@ Enumerated value must be one of [Phone, Coax]
 		return possibleConnectionTypes;
 	}
 
+	/**
+	 * Read the {{list}} List items indicate the types of connections possible for this interface. 
+
+Enumerated value must be one of [Phone, Coax]
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleConnectionTypes() {
+		return possibleConnectionTypes == null ? Collections.emptyList() : possibleConnectionTypes;
+	}
+
 	/**
 	 * Set the {{list}} List items indicate the types of connections possible for this interface. 
 
@@ -860,6 +933,7 @@ Enumerated value must be one of [Phone, Coax]
 	 */
 	public void  setPossibleConnectionTypes(Collection<String> possibleConnectionTypes) {
 		this.possibleConnectionTypes = possibleConnectionTypes;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -873,6 +947,7 @@ Enumerated value must be one of [Phone, Coax]
 	 */
 	public Interface withPossibleConnectionTypes(String string) {
 		getPossibleConnectionTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -887,6 +962,17 @@ Enumerated value must be one of [Phone, Coax]
 		return connectionType;
 	}
 
+	/**
+	 * Read the {{list}} Connection type(s) for which the HPNA protocol is active.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewConnectionType() {
+		return connectionType == null ? Collections.emptyList() : connectionType;
+	}
+
 	/**
 	 * Set the {{list}} Connection type(s) for which the HPNA protocol is active.
 	 *
@@ -895,6 +981,7 @@ Enumerated value must be one of [Phone, Coax]
 	 */
 	public void  setConnectionType(Collection<String> connectionType) {
 		this.connectionType = connectionType;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -906,6 +993,7 @@ Enumerated value must be one of [Phone, Coax]
 	 */
 	public Interface withConnectionType(String string) {
 		getConnectionType().add(string);
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -922,6 +1010,19 @@ Enumerated value must be one of [A, B, C, D]
 		return possibleSpectralModes;
 	}
 
+	/**
+	 * Read the {{list}} List items indicate the spectral modes possible for this interface. 
+
+Enumerated value must be one of [A, B, C, D]
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleSpectralModes() {
+		return possibleSpectralModes == null ? Collections.emptyList() : possibleSpectralModes;
+	}
+
 	/**
 	 * Set the {{list}} List items indicate the spectral modes possible for this interface. 
 
@@ -932,6 +1033,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setPossibleSpectralModes(Collection<String> possibleSpectralModes) {
 		this.possibleSpectralModes = possibleSpectralModes;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -945,6 +1047,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withPossibleSpectralModes(String string) {
 		getPossibleSpectralModes().add(string);
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -966,6 +1069,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setSpectralMode(String spectralMode) {
 		this.spectralMode = spectralMode;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -977,6 +1081,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withSpectralMode(String spectralMode) {
 		this.spectralMode = spectralMode;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -998,6 +1103,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setMtu(Long mtu) {
 		this.mtu = mtu;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1009,6 +1115,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withMtu(Long mtu) {
 		this.mtu = mtu;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1030,6 +1137,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setNoiseMargin(Long noiseMargin) {
 		this.noiseMargin = noiseMargin;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1041,6 +1149,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withNoiseMargin(Long noiseMargin) {
 		this.noiseMargin = noiseMargin;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1062,6 +1171,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setDefaultNonLARQPER(Long defaultNonLARQPER) {
 		this.defaultNonLARQPER = defaultNonLARQPER;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1073,6 +1183,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withDefaultNonLARQPER(Long defaultNonLARQPER) {
 		this.defaultNonLARQPER = defaultNonLARQPER;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1094,6 +1205,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setLarQEnable(Boolean larQEnable) {
 		this.larQEnable = larQEnable;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1105,6 +1217,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withLarQEnable(Boolean larQEnable) {
 		this.larQEnable = larQEnable;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1126,6 +1239,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setMinMulticastRate(Long minMulticastRate) {
 		this.minMulticastRate = minMulticastRate;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1137,6 +1251,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withMinMulticastRate(Long minMulticastRate) {
 		this.minMulticastRate = minMulticastRate;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1158,6 +1273,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setNegMulticastRate(Long negMulticastRate) {
 		this.negMulticastRate = negMulticastRate;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1169,6 +1285,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withNegMulticastRate(Long negMulticastRate) {
 		this.negMulticastRate = negMulticastRate;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1190,6 +1307,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public void  setMasterSelectionMode(String masterSelectionMode) {
 		this.masterSelectionMode = masterSelectionMode;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1201,6 +1319,7 @@ Enumerated value must be one of [A, B, C, D]
 	 */
 	public Interface withMasterSelectionMode(String masterSelectionMode) {
 		this.masterSelectionMode = masterSelectionMode;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1274,10 +1393,20 @@ Enumerated value must be one of [A, B, C, D]
 	 * @return the value
 	 */
 	public Collection<AssociatedDevice> getAssociatedDevices() {
-		if (this.associatedDevices == null){ this.associatedDevices=new ArrayList<>();}
+		if (!(this.associatedDevices instanceof InstanceTable)){ this.associatedDevices=InstanceTable.of(this.associatedDevices);}
 		return associatedDevices;
 	}
 
+	/**
+	 * Read the this table provides information about other HPNA devices that are directly accessible via this HPNA interface.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AssociatedDevice> viewAssociatedDevices() {
+		return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+	}
+
 	/**
 	 * Set the this table provides information about other HPNA devices that are directly accessible via this HPNA interface.
 	 *
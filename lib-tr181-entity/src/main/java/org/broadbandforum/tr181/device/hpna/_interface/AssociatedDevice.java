@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -97,6 +99,16 @@ public class AssociatedDevice {
 	@XmlElement(name = "Active")
 	public Boolean active;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -119,6 +131,8 @@ public class AssociatedDevice {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -130,6 +144,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -151,6 +167,7 @@ public class AssociatedDevice {
 	 */
 	public void  setNodeID(Long nodeID) {
 		this.nodeID = nodeID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -162,6 +179,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withNodeID(Long nodeID) {
 		this.nodeID = nodeID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -183,6 +201,7 @@ public class AssociatedDevice {
 	 */
 	public void  setIsmaster(Boolean ismaster) {
 		this.ismaster = ismaster;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -194,6 +213,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withIsmaster(Boolean ismaster) {
 		this.ismaster = ismaster;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -215,6 +235,7 @@ public class AssociatedDevice {
 	 */
 	public void  setSynced(Boolean synced) {
 		this.synced = synced;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -226,6 +247,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withSynced(Boolean synced) {
 		this.synced = synced;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -247,6 +269,7 @@ public class AssociatedDevice {
 	 */
 	public void  setTotalSyncTime(Long totalSyncTime) {
 		this.totalSyncTime = totalSyncTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -258,6 +281,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withTotalSyncTime(Long totalSyncTime) {
 		this.totalSyncTime = totalSyncTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -279,6 +303,7 @@ public class AssociatedDevice {
 	 */
 	public void  setMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -290,6 +315,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -311,6 +337,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPhyDiagnosticsEnable(Boolean phyDiagnosticsEnable) {
 		this.phyDiagnosticsEnable = phyDiagnosticsEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -322,6 +349,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPhyDiagnosticsEnable(Boolean phyDiagnosticsEnable) {
 		this.phyDiagnosticsEnable = phyDiagnosticsEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -347,6 +375,7 @@ public class AssociatedDevice {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -360,6 +389,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.hpna._interface;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.hpna._interface.qos.FlowSpec;
 
 	/**
@@ -64,10 +65,24 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<FlowSpec> getFlowSpecs() {
-		if (this.flowSpecs == null){ this.flowSpecs=new ArrayList<>();}
+		if (!(this.flowSpecs instanceof InstanceTable)){ this.flowSpecs=InstanceTable.of(this.flowSpecs);}
 		return flowSpecs;
 	}
 
+	/**
+	 * Read the flow specification table.
+
+        The {{object|.QoS.Classification}} table is used to classify ingress traffic, where {{param|.QoS.Classification.{i}.TrafficClass}} is one of the classification result outputs. This ''TrafficClass'' value can be used to look up the appropriate {{object}} entry (i.e. the {{object}} entry whose {{param|TrafficClasses}} list contains a matching traffic class).
+
+        For enabled table entries, if {{param|TrafficClasses}} is {{empty}} then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<FlowSpec> viewFlowSpecs() {
+		return flowSpecs == null ? Collections.emptyList() : flowSpecs;
+	}
+
 	/**
 	 * Set the flow specification table.
 
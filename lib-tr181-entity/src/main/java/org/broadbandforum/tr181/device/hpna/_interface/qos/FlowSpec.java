@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Flow specification table.
@@ -179,6 +181,16 @@ public class FlowSpec {
 	@CWMPParameter(access = "readWrite", units = "milliseconds")
 	public Long timeout = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public FlowSpec() {
 	}
 
@@ -201,6 +213,7 @@ public class FlowSpec {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -212,6 +225,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -241,6 +255,7 @@ public class FlowSpec {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -256,6 +271,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -277,6 +293,8 @@ public class FlowSpec {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -288,6 +306,8 @@ public class FlowSpec {
 	 */
 	public FlowSpec withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -309,6 +329,7 @@ public class FlowSpec {
 	 */
 	public void  setTrafficClasses(Long trafficClasses) {
 		this.trafficClasses = trafficClasses;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -320,6 +341,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withTrafficClasses(Long trafficClasses) {
 		this.trafficClasses = trafficClasses;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -341,6 +363,7 @@ public class FlowSpec {
 	 */
 	public void  setFlowType(String flowType) {
 		this.flowType = flowType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -352,6 +375,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withFlowType(String flowType) {
 		this.flowType = flowType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -377,6 +401,7 @@ public class FlowSpec {
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -390,6 +415,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -415,6 +441,7 @@ public class FlowSpec {
 	 */
 	public void  setLatency(Long latency) {
 		this.latency = latency;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -428,6 +455,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withLatency(Long latency) {
 		this.latency = latency;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -453,6 +481,7 @@ public class FlowSpec {
 	 */
 	public void  setJitter(Long jitter) {
 		this.jitter = jitter;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -466,6 +495,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withJitter(Long jitter) {
 		this.jitter = jitter;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -491,6 +521,7 @@ public class FlowSpec {
 	 */
 	public void  setPacketSize(Long packetSize) {
 		this.packetSize = packetSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -504,6 +535,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withPacketSize(Long packetSize) {
 		this.packetSize = packetSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -529,6 +561,7 @@ public class FlowSpec {
 	 */
 	public void  setMinRate(Long minRate) {
 		this.minRate = minRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -542,6 +575,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withMinRate(Long minRate) {
 		this.minRate = minRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -567,6 +601,7 @@ public class FlowSpec {
 	 */
 	public void  setAvgRate(Long avgRate) {
 		this.avgRate = avgRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -580,6 +615,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withAvgRate(Long avgRate) {
 		this.avgRate = avgRate;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -605,6 +641,7 @@ public class FlowSpec {
 	 */
 	public void  setMaxRate(Long maxRate) {
 		this.maxRate = maxRate;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -618,6 +655,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withMaxRate(Long maxRate) {
 		this.maxRate = maxRate;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -643,6 +681,7 @@ public class FlowSpec {
 	 */
 	public void  setPer(Long per) {
 		this.per = per;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -656,6 +695,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withPer(Long per) {
 		this.per = per;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -681,6 +721,7 @@ public class FlowSpec {
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -694,6 +735,7 @@ public class FlowSpec {
 	 */
 	public FlowSpec withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
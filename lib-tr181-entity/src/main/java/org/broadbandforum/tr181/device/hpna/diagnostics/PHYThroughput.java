@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.hpna.diagnostics;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +27,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.hpna.diagnostics.phythroughput.Result;
 
 	/**
@@ -130,6 +132,11 @@ public class PHYThroughput {
 	@XmlElement(name = "Result")
 	public Collection<Result> results;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PHYThroughput() {
 	}
 
@@ -152,6 +159,7 @@ public class PHYThroughput {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -163,6 +171,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -184,6 +193,7 @@ public class PHYThroughput {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -195,6 +205,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -216,6 +227,7 @@ public class PHYThroughput {
 	 */
 	public void  setNumPacketsInBurst(Long numPacketsInBurst) {
 		this.numPacketsInBurst = numPacketsInBurst;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -227,6 +239,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withNumPacketsInBurst(Long numPacketsInBurst) {
 		this.numPacketsInBurst = numPacketsInBurst;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -248,6 +261,7 @@ public class PHYThroughput {
 	 */
 	public void  setBurstInterval(Long burstInterval) {
 		this.burstInterval = burstInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -259,6 +273,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withBurstInterval(Long burstInterval) {
 		this.burstInterval = burstInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -280,6 +295,7 @@ public class PHYThroughput {
 	 */
 	public void  setTestPacketPayloadLength(Long testPacketPayloadLength) {
 		this.testPacketPayloadLength = testPacketPayloadLength;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -291,6 +307,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withTestPacketPayloadLength(Long testPacketPayloadLength) {
 		this.testPacketPayloadLength = testPacketPayloadLength;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -312,6 +329,7 @@ public class PHYThroughput {
 	 */
 	public void  setPayloadEncoding(Long payloadEncoding) {
 		this.payloadEncoding = payloadEncoding;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -323,6 +341,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withPayloadEncoding(Long payloadEncoding) {
 		this.payloadEncoding = payloadEncoding;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -344,6 +363,7 @@ public class PHYThroughput {
 	 */
 	public void  setPayloadDataGen(Long payloadDataGen) {
 		this.payloadDataGen = payloadDataGen;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -355,6 +375,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withPayloadDataGen(Long payloadDataGen) {
 		this.payloadDataGen = payloadDataGen;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -384,6 +405,7 @@ public class PHYThroughput {
 	 */
 	public void  setPayloadType(String payloadType) {
 		this.payloadType = payloadType;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -399,6 +421,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withPayloadType(String payloadType) {
 		this.payloadType = payloadType;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -420,6 +443,7 @@ public class PHYThroughput {
 	 */
 	public void  setPriorityLevel(Long priorityLevel) {
 		this.priorityLevel = priorityLevel;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -431,6 +455,7 @@ public class PHYThroughput {
 	 */
 	public PHYThroughput withPriorityLevel(Long priorityLevel) {
 		this.priorityLevel = priorityLevel;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -442,10 +467,22 @@ public class PHYThroughput {
 	 * @return the value
 	 */
 	public Collection<Result> getResults() {
-		if (this.results == null){ this.results=new ArrayList<>();}
+		if (!(this.results instanceof InstanceTable)){ this.results=InstanceTable.of(this.results);}
 		return results;
 	}
 
+	/**
+	 * Read the phy throughput diagnostics results. 
+
+        Each result object corresponds to unidirectional traffic between two PHY diagnostics-enabled nodes (so there are two such objects for  each such pair).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Result> viewResults() {
+		return results == null ? Collections.emptyList() : results;
+	}
+
 	/**
 	 * Set the phy throughput diagnostics results. 
 
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.hpna.diagnostics.performancemonitoring.Channels;
 import org.broadbandforum.tr181.device.hpna.diagnostics.performancemonitoring.Nodes;
 
@@ -88,6 +89,11 @@ public class PerformanceMonitoring {
 	@XmlElement(name = "Channels")
 	public Channels channels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PerformanceMonitoring() {
 	}
 
@@ -110,6 +116,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -121,6 +128,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -142,6 +150,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -153,6 +162,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -182,6 +192,7 @@ public class PerformanceMonitoring {
 	 */
 	public void  setSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -197,6 +208,7 @@ public class PerformanceMonitoring {
 	 */
 	public PerformanceMonitoring withSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -117,6 +119,16 @@ public class Channel {
 	@Size(max = 256)
 	public String flowSpec;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Channel() {
 	}
 
@@ -139,6 +151,8 @@ public class Channel {
 	 */
 	public void  setHostSrcMACAddress(MACAddress hostSrcMACAddress) {
 		this.hostSrcMACAddress = hostSrcMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -150,6 +164,8 @@ public class Channel {
 	 */
 	public Channel withHostSrcMACAddress(MACAddress hostSrcMACAddress) {
 		this.hostSrcMACAddress = hostSrcMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -171,6 +187,8 @@ public class Channel {
 	 */
 	public void  setHostDestMACAddress(MACAddress hostDestMACAddress) {
 		this.hostDestMACAddress = hostDestMACAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -182,6 +200,8 @@ public class Channel {
 	 */
 	public Channel withHostDestMACAddress(MACAddress hostDestMACAddress) {
 		this.hostDestMACAddress = hostDestMACAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -203,6 +223,7 @@ public class Channel {
 	 */
 	public void  setHpnASrcMACAddress(MACAddress hpnASrcMACAddress) {
 		this.hpnASrcMACAddress = hpnASrcMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -214,6 +235,7 @@ public class Channel {
 	 */
 	public Channel withHpnASrcMACAddress(MACAddress hpnASrcMACAddress) {
 		this.hpnASrcMACAddress = hpnASrcMACAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -235,6 +257,7 @@ public class Channel {
 	 */
 	public void  setHpnADestMACAddress(MACAddress hpnADestMACAddress) {
 		this.hpnADestMACAddress = hpnADestMACAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -246,6 +269,7 @@ public class Channel {
 	 */
 	public Channel withHpnADestMACAddress(MACAddress hpnADestMACAddress) {
 		this.hpnADestMACAddress = hpnADestMACAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -267,6 +291,7 @@ public class Channel {
 	 */
 	public void  setPhyRate(Long phyRate) {
 		this.phyRate = phyRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -278,6 +303,7 @@ public class Channel {
 	 */
 	public Channel withPhyRate(Long phyRate) {
 		this.phyRate = phyRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -299,6 +325,7 @@ public class Channel {
 	 */
 	public void  setBaudRate(Long baudRate) {
 		this.baudRate = baudRate;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -310,6 +337,7 @@ public class Channel {
 	 */
 	public Channel withBaudRate(Long baudRate) {
 		this.baudRate = baudRate;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -331,6 +359,7 @@ public class Channel {
 	 */
 	public void  setSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -342,6 +371,7 @@ public class Channel {
 	 */
 	public Channel withSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -363,6 +393,7 @@ public class Channel {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -374,6 +405,7 @@ public class Channel {
 	 */
 	public Channel withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -395,6 +427,7 @@ public class Channel {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -406,6 +439,7 @@ public class Channel {
 	 */
 	public Channel withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -427,6 +461,7 @@ public class Channel {
 	 */
 	public void  setLarqPacketsReceived(Long larqPacketsReceived) {
 		this.larqPacketsReceived = larqPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -438,6 +473,7 @@ public class Channel {
 	 */
 	public Channel withLarQPacketsReceived(Long larQPacketsReceived) {
 		this.larqPacketsReceived = larQPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -463,6 +499,7 @@ public class Channel {
 	 */
 	public void  setFlowSpec(String flowSpec) {
 		this.flowSpec = flowSpec;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -476,6 +513,7 @@ public class Channel {
 	 */
 	public Channel withFlowSpec(String flowSpec) {
 		this.flowSpec = flowSpec;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -229,6 +231,16 @@ public class Node {
 	@Size(min = 0, max = 1000)
 	public Long nodeUtilization;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Node() {
 	}
 
@@ -251,6 +263,8 @@ public class Node {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -262,6 +276,8 @@ public class Node {
 	 */
 	public Node withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -283,6 +299,7 @@ public class Node {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -294,6 +311,7 @@ public class Node {
 	 */
 	public Node withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -315,6 +333,7 @@ public class Node {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -326,6 +345,7 @@ public class Node {
 	 */
 	public Node withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -347,6 +367,7 @@ public class Node {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -358,6 +379,7 @@ public class Node {
 	 */
 	public Node withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -379,6 +401,7 @@ public class Node {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -390,6 +413,7 @@ public class Node {
 	 */
 	public Node withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -411,6 +435,7 @@ public class Node {
 	 */
 	public void  setBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -422,6 +447,7 @@ public class Node {
 	 */
 	public Node withBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -443,6 +469,7 @@ public class Node {
 	 */
 	public void  setBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -454,6 +481,7 @@ public class Node {
 	 */
 	public Node withBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -475,6 +503,7 @@ public class Node {
 	 */
 	public void  setMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -486,6 +515,7 @@ public class Node {
 	 */
 	public Node withMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -507,6 +537,7 @@ public class Node {
 	 */
 	public void  setMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -518,6 +549,7 @@ public class Node {
 	 */
 	public Node withMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -539,6 +571,7 @@ public class Node {
 	 */
 	public void  setPacketsCrcErrored(Long packetsCrcErrored) {
 		this.packetsCrcErrored = packetsCrcErrored;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -550,6 +583,7 @@ public class Node {
 	 */
 	public Node withPacketsCrcErrored(Long packetsCrcErrored) {
 		this.packetsCrcErrored = packetsCrcErrored;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -571,6 +605,7 @@ public class Node {
 	 */
 	public void  setPacketsCrcErroredHost(Long packetsCrcErroredHost) {
 		this.packetsCrcErroredHost = packetsCrcErroredHost;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -582,6 +617,7 @@ public class Node {
 	 */
 	public Node withPacketsCrcErroredHost(Long packetsCrcErroredHost) {
 		this.packetsCrcErroredHost = packetsCrcErroredHost;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -603,6 +639,7 @@ public class Node {
 	 */
 	public void  setPacketsShortErrored(Long packetsShortErrored) {
 		this.packetsShortErrored = packetsShortErrored;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -614,6 +651,7 @@ public class Node {
 	 */
 	public Node withPacketsShortErrored(Long packetsShortErrored) {
 		this.packetsShortErrored = packetsShortErrored;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -635,6 +673,7 @@ public class Node {
 	 */
 	public void  setPacketsShortErroredHost(Long packetsShortErroredHost) {
 		this.packetsShortErroredHost = packetsShortErroredHost;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -646,6 +685,7 @@ public class Node {
 	 */
 	public Node withPacketsShortErroredHost(Long packetsShortErroredHost) {
 		this.packetsShortErroredHost = packetsShortErroredHost;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -667,6 +707,7 @@ public class Node {
 	 */
 	public void  setRxpacketsDropped(Long rxpacketsDropped) {
 		this.rxpacketsDropped = rxpacketsDropped;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -678,6 +719,7 @@ public class Node {
 	 */
 	public Node withRxpacketsDropped(Long rxpacketsDropped) {
 		this.rxpacketsDropped = rxpacketsDropped;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -699,6 +741,7 @@ public class Node {
 	 */
 	public void  setTxpacketsDropped(Long txpacketsDropped) {
 		this.txpacketsDropped = txpacketsDropped;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -710,6 +753,7 @@ public class Node {
 	 */
 	public Node withTxpacketsDropped(Long txpacketsDropped) {
 		this.txpacketsDropped = txpacketsDropped;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -731,6 +775,7 @@ public class Node {
 	 */
 	public void  setControlRequestLocal(Long controlRequestLocal) {
 		this.controlRequestLocal = controlRequestLocal;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -742,6 +787,7 @@ public class Node {
 	 */
 	public Node withControlRequestLocal(Long controlRequestLocal) {
 		this.controlRequestLocal = controlRequestLocal;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -763,6 +809,7 @@ public class Node {
 	 */
 	public void  setControlReplyLocal(Long controlReplyLocal) {
 		this.controlReplyLocal = controlReplyLocal;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -774,6 +821,7 @@ public class Node {
 	 */
 	public Node withControlReplyLocal(Long controlReplyLocal) {
 		this.controlReplyLocal = controlReplyLocal;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -795,6 +843,7 @@ public class Node {
 	 */
 	public void  setControlRequestRemote(Long controlRequestRemote) {
 		this.controlRequestRemote = controlRequestRemote;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -806,6 +855,7 @@ public class Node {
 	 */
 	public Node withControlRequestRemote(Long controlRequestRemote) {
 		this.controlRequestRemote = controlRequestRemote;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -827,6 +877,7 @@ public class Node {
 	 */
 	public void  setControlReplyRemote(Long controlReplyRemote) {
 		this.controlReplyRemote = controlReplyRemote;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -838,6 +889,7 @@ public class Node {
 	 */
 	public Node withControlReplyRemote(Long controlReplyRemote) {
 		this.controlReplyRemote = controlReplyRemote;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -859,6 +911,7 @@ public class Node {
 	 */
 	public void  setPacketsSentWire(Long packetsSentWire) {
 		this.packetsSentWire = packetsSentWire;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -870,6 +923,7 @@ public class Node {
 	 */
 	public Node withPacketsSentWire(Long packetsSentWire) {
 		this.packetsSentWire = packetsSentWire;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -891,6 +945,7 @@ public class Node {
 	 */
 	public void  setBroadcastPacketsSentWire(Long broadcastPacketsSentWire) {
 		this.broadcastPacketsSentWire = broadcastPacketsSentWire;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -902,6 +957,7 @@ public class Node {
 	 */
 	public Node withBroadcastPacketsSentWire(Long broadcastPacketsSentWire) {
 		this.broadcastPacketsSentWire = broadcastPacketsSentWire;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -923,6 +979,7 @@ public class Node {
 	 */
 	public void  setMulticastPacketsSentWire(Long multicastPacketsSentWire) {
 		this.multicastPacketsSentWire = multicastPacketsSentWire;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -934,6 +991,7 @@ public class Node {
 	 */
 	public Node withMulticastPacketsSentWire(Long multicastPacketsSentWire) {
 		this.multicastPacketsSentWire = multicastPacketsSentWire;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -955,6 +1013,7 @@ public class Node {
 	 */
 	public void  setPacketsInternalControl(Long packetsInternalControl) {
 		this.packetsInternalControl = packetsInternalControl;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -966,6 +1025,7 @@ public class Node {
 	 */
 	public Node withPacketsInternalControl(Long packetsInternalControl) {
 		this.packetsInternalControl = packetsInternalControl;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -987,6 +1047,7 @@ public class Node {
 	 */
 	public void  setBroadcastPacketsInternalControl(Long broadcastPacketsInternalControl) {
 		this.broadcastPacketsInternalControl = broadcastPacketsInternalControl;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -998,6 +1059,7 @@ public class Node {
 	 */
 	public Node withBroadcastPacketsInternalControl(Long broadcastPacketsInternalControl) {
 		this.broadcastPacketsInternalControl = broadcastPacketsInternalControl;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1019,6 +1081,7 @@ public class Node {
 	 */
 	public void  setPacketsReceivedQueued(Long packetsReceivedQueued) {
 		this.packetsReceivedQueued = packetsReceivedQueued;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1030,6 +1093,7 @@ public class Node {
 	 */
 	public Node withPacketsReceivedQueued(Long packetsReceivedQueued) {
 		this.packetsReceivedQueued = packetsReceivedQueued;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1051,6 +1115,7 @@ public class Node {
 	 */
 	public void  setPacketsReceivedForwardUnknown(Long packetsReceivedForwardUnknown) {
 		this.packetsReceivedForwardUnknown = packetsReceivedForwardUnknown;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1062,6 +1127,7 @@ public class Node {
 	 */
 	public Node withPacketsReceivedForwardUnknown(Long packetsReceivedForwardUnknown) {
 		this.packetsReceivedForwardUnknown = packetsReceivedForwardUnknown;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1083,6 +1149,7 @@ public class Node {
 	 */
 	public void  setNodeUtilization(Long nodeUtilization) {
 		this.nodeUtilization = nodeUtilization;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1094,6 +1161,7 @@ public class Node {
 	 */
 	public Node withNodeUtilization(Long nodeUtilization) {
 		this.nodeUtilization = nodeUtilization;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -22,6 +22,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -87,6 +89,16 @@ public class Result {
 	@XmlElement(name = "Attenuation")
 	public Long attenuation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Result() {
 	}
 
@@ -109,6 +121,8 @@ public class Result {
 	 */
 	public void  setSrcMACAddress(MACAddress srcMACAddress) {
 		this.srcMACAddress = srcMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -120,6 +134,8 @@ public class Result {
 	 */
 	public Result withSrcMACAddress(MACAddress srcMACAddress) {
 		this.srcMACAddress = srcMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -141,6 +157,8 @@ public class Result {
 	 */
 	public void  setDestMACAddress(MACAddress destMACAddress) {
 		this.destMACAddress = destMACAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -152,6 +170,8 @@ public class Result {
 	 */
 	public Result withDestMACAddress(MACAddress destMACAddress) {
 		this.destMACAddress = destMACAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -173,6 +193,7 @@ public class Result {
 	 */
 	public void  setPhyRate(Long phyRate) {
 		this.phyRate = phyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -184,6 +205,7 @@ public class Result {
 	 */
 	public Result withPhyRate(Long phyRate) {
 		this.phyRate = phyRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -205,6 +227,7 @@ public class Result {
 	 */
 	public void  setBaudRate(Long baudRate) {
 		this.baudRate = baudRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -216,6 +239,7 @@ public class Result {
 	 */
 	public Result withBaudRate(Long baudRate) {
 		this.baudRate = baudRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -237,6 +261,7 @@ public class Result {
 	 */
 	public void  setSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -248,6 +273,7 @@ public class Result {
 	 */
 	public Result withSnr(Long snr) {
 		this.snr = snr;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -269,6 +295,7 @@ public class Result {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -280,6 +307,7 @@ public class Result {
 	 */
 	public Result withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -301,6 +329,7 @@ public class Result {
 	 */
 	public void  setAttenuation(Long attenuation) {
 		this.attenuation = attenuation;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -312,6 +341,7 @@ public class Result {
 	 */
 	public Result withAttenuation(Long attenuation) {
 		this.attenuation = attenuation;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
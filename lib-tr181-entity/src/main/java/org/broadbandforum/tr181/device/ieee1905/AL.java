@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ieee1905;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ieee1905.al.ForwardingTable;
 import org.broadbandforum.tr181.device.ieee1905.al.Interface;
@@ -118,6 +121,11 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	@XmlElement(name = "NetworkingRegistrar")
 	public NetworkingRegistrar networkingRegistrar;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AL() {
 	}
 
@@ -140,6 +148,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public void  setIeeE1905Id(MACAddress ieeE1905Id) {
 		this.ieeE1905Id = ieeE1905Id;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -151,6 +160,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public AL withIeeE1905Id(MACAddress ieeE1905Id) {
 		this.ieeE1905Id = ieeE1905Id;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -180,6 +190,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -195,6 +206,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public AL withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -216,6 +228,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -227,6 +240,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public AL withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -241,6 +255,17 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the this parameter is NOT RECOMMENDED to be used because IEEE1905 is not an interface.  {{list}} {{reference}} See {{bibref|TR-181i2|Section 4.2.1}}.
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the this parameter is NOT RECOMMENDED to be used because IEEE1905 is not an interface.  {{list}} {{reference}} See {{bibref|TR-181i2|Section 4.2.1}}.
 	 *
@@ -249,6 +274,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -260,6 +286,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public AL withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -276,6 +303,19 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 		return registrarFreqBand;
 	}
 
+	/**
+	 * Read the {{list}} See {{bibref|IEEE1905.1a|Table 6-25: SupportedFreqBand TLV}}. 
+
+Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRegistrarFreqBand() {
+		return registrarFreqBand == null ? Collections.emptyList() : registrarFreqBand;
+	}
+
 	/**
 	 * Set the {{list}} See {{bibref|IEEE1905.1a|Table 6-25: SupportedFreqBand TLV}}. 
 
@@ -286,6 +326,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public void  setRegistrarFreqBand(Collection<String> registrarFreqBand) {
 		this.registrarFreqBand = registrarFreqBand;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -299,6 +340,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 */
 	public AL withRegistrarFreqBand(String string) {
 		getRegistrarFreqBand().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -308,10 +350,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz]
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the 1905 interface table (described in {{bibref|IEEE1905.1a|sub-clause 5 Abstraction Layer Management}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the 1905 interface table (described in {{bibref|IEEE1905.1a|sub-clause 5 Abstraction Layer Management}}).
 	 *
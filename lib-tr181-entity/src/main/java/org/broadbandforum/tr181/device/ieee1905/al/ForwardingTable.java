@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.ieee1905.al;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ieee1905.al.forwardingtable.ForwardingRule;
 
 	/**
@@ -54,6 +56,11 @@ public class ForwardingTable {
 	@CWMPParameter(access = "readWrite")
 	public Collection<ForwardingRule> forwardingRules;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ForwardingTable() {
 	}
 
@@ -76,6 +83,7 @@ public class ForwardingTable {
 	 */
 	public void  setSetForwardingEnabled(Boolean setForwardingEnabled) {
 		this.setForwardingEnabled = setForwardingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +95,7 @@ public class ForwardingTable {
 	 */
 	public ForwardingTable withSetForwardingEnabled(Boolean setForwardingEnabled) {
 		this.setForwardingEnabled = setForwardingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -96,10 +105,20 @@ public class ForwardingTable {
 	 * @return the value
 	 */
 	public Collection<ForwardingRule> getForwardingRules() {
-		if (this.forwardingRules == null){ this.forwardingRules=new ArrayList<>();}
+		if (!(this.forwardingRules instanceof InstanceTable)){ this.forwardingRules=InstanceTable.of(this.forwardingRules);}
 		return forwardingRules;
 	}
 
+	/**
+	 * Read the 1905 fowarding rule for the ALME-SET-FWD-RULE.request and ALME-GET-FWD-RULES.response with classification criteria as defined in {{bibref|IEEE1905.1a|Table 5-9: ClassificationSet elements}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ForwardingRule> viewForwardingRules() {
+		return forwardingRules == null ? Collections.emptyList() : forwardingRules;
+	}
+
 	/**
 	 * Set the 1905 fowarding rule for the ALME-SET-FWD-RULE.request and ALME-GET-FWD-RULES.response with classification criteria as defined in {{bibref|IEEE1905.1a|Table 5-9: ClassificationSet elements}}.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ieee1905.al;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -29,6 +30,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ieee1905.al._interface.Link;
 import org.broadbandforum.tr181.device.ieee1905.al._interface.VendorProperties;
@@ -148,6 +151,16 @@ public class Interface {
 	@XmlElement(name = "Link")
 	public Collection<Link> links;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -170,6 +183,8 @@ public class Interface {
 	 */
 	public void  setInterfaceId(MACAddress interfaceId) {
 		this.interfaceId = interfaceId;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -181,6 +196,8 @@ public class Interface {
 	 */
 	public Interface withInterfaceId(MACAddress interfaceId) {
 		this.interfaceId = interfaceId;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -210,6 +227,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -225,6 +243,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -246,6 +265,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -257,6 +277,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -271,6 +292,17 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the this parameter is NOT RECOMMENDED to be used because it is not a parameter defined in a 1905 ALME primitive or protocol TLV.  {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the this parameter is NOT RECOMMENDED to be used because it is not a parameter defined in a 1905 ALME primitive or protocol TLV.  {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 	 *
@@ -279,6 +311,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -290,6 +323,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -311,6 +345,7 @@ public class Interface {
 	 */
 	public void  setInterfaceStackReference(String interfaceStackReference) {
 		this.interfaceStackReference = interfaceStackReference;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -322,6 +357,7 @@ public class Interface {
 	 */
 	public Interface withInterfaceStackReference(String interfaceStackReference) {
 		this.interfaceStackReference = interfaceStackReference;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -343,6 +379,7 @@ public class Interface {
 	 */
 	public void  setMediaType(String mediaType) {
 		this.mediaType = mediaType;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -354,6 +391,7 @@ public class Interface {
 	 */
 	public Interface withMediaType(String mediaType) {
 		this.mediaType = mediaType;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -375,6 +413,7 @@ public class Interface {
 	 */
 	public void  setGenericPhyOUI(String genericPhyOUI) {
 		this.genericPhyOUI = genericPhyOUI;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -386,6 +425,7 @@ public class Interface {
 	 */
 	public Interface withGenericPhyOUI(String genericPhyOUI) {
 		this.genericPhyOUI = genericPhyOUI;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -407,6 +447,7 @@ public class Interface {
 	 */
 	public void  setGenericPhyVariant(byte[] genericPhyVariant) {
 		this.genericPhyVariant = genericPhyVariant;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -418,6 +459,7 @@ public class Interface {
 	 */
 	public Interface withGenericPhyVariant(byte[] genericPhyVariant) {
 		this.genericPhyVariant = genericPhyVariant;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -439,6 +481,7 @@ public class Interface {
 	 */
 	public void  setGenericPhyURL(String genericPhyURL) {
 		this.genericPhyURL = genericPhyURL;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -450,6 +493,7 @@ public class Interface {
 	 */
 	public Interface withGenericPhyURL(String genericPhyURL) {
 		this.genericPhyURL = genericPhyURL;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -471,6 +515,7 @@ public class Interface {
 	 */
 	public void  setSetIntfPowerStateEnabled(Boolean setIntfPowerStateEnabled) {
 		this.setIntfPowerStateEnabled = setIntfPowerStateEnabled;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -482,6 +527,7 @@ public class Interface {
 	 */
 	public Interface withSetIntfPowerStateEnabled(Boolean setIntfPowerStateEnabled) {
 		this.setIntfPowerStateEnabled = setIntfPowerStateEnabled;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -503,6 +549,7 @@ public class Interface {
 	 */
 	public void  setPowerState(String powerState) {
 		this.powerState = powerState;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -514,6 +561,7 @@ public class Interface {
 	 */
 	public Interface withPowerState(String powerState) {
 		this.powerState = powerState;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -523,10 +571,20 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<VendorProperties> getVendorPropertiess() {
-		if (this.vendorPropertiess == null){ this.vendorPropertiess=new ArrayList<>();}
+		if (!(this.vendorPropertiess instanceof InstanceTable)){ this.vendorPropertiess=InstanceTable.of(this.vendorPropertiess);}
 		return vendorPropertiess;
 	}
 
+	/**
+	 * Read the this object defines the vendor specific properties (vendorSpecificInfo field) of this {{object|##.Interface}} as defined in {{bibref|IEEE1905.1a|Table 5-2: intfDescriptor elements}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VendorProperties> viewVendorPropertiess() {
+		return vendorPropertiess == null ? Collections.emptyList() : vendorPropertiess;
+	}
+
 	/**
 	 * Set the this object defines the vendor specific properties (vendorSpecificInfo field) of this {{object|##.Interface}} as defined in {{bibref|IEEE1905.1a|Table 5-2: intfDescriptor elements}}.
 	 *
@@ -553,10 +611,20 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<Link> getLinks() {
-		if (this.links == null){ this.links=new ArrayList<>();}
+		if (!(this.links instanceof InstanceTable)){ this.links=InstanceTable.of(this.links);}
 		return links;
 	}
 
+	/**
+	 * Read the this object defines the 1905 neighbors and link properties.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Link> viewLinks() {
+		return links == null ? Collections.emptyList() : links;
+	}
+
 	/**
 	 * Set the this object defines the 1905 neighbors and link properties.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.ieee1905.al;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ieee1905.al.networktopology.ChangeLog;
 import org.broadbandforum.tr181.device.ieee1905.al.networktopology.IEEE1905Device;
 
@@ -87,6 +89,11 @@ public class NetworkTopology {
 	@XmlElement(name = "IEEE1905Device")
 	public Collection<IEEE1905Device> ieeE1905Devices;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NetworkTopology() {
 	}
 
@@ -109,6 +116,7 @@ public class NetworkTopology {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -120,6 +128,7 @@ public class NetworkTopology {
 	 */
 	public NetworkTopology withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -145,6 +154,7 @@ public class NetworkTopology {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -158,6 +168,7 @@ public class NetworkTopology {
 	 */
 	public NetworkTopology withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -179,6 +190,7 @@ public class NetworkTopology {
 	 */
 	public void  setMaxChangeLogEntries(Long maxChangeLogEntries) {
 		this.maxChangeLogEntries = maxChangeLogEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +202,7 @@ public class NetworkTopology {
 	 */
 	public NetworkTopology withMaxChangeLogEntries(Long maxChangeLogEntries) {
 		this.maxChangeLogEntries = maxChangeLogEntries;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +224,7 @@ public class NetworkTopology {
 	 */
 	public void  setLastChange(String lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -222,6 +236,7 @@ public class NetworkTopology {
 	 */
 	public NetworkTopology withLastChange(String lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -231,10 +246,20 @@ public class NetworkTopology {
 	 * @return the value
 	 */
 	public Collection<ChangeLog> getChangeLogs() {
-		if (this.changeLogs == null){ this.changeLogs=new ArrayList<>();}
+		if (!(this.changeLogs instanceof InstanceTable)){ this.changeLogs=InstanceTable.of(this.changeLogs);}
 		return changeLogs;
 	}
 
+	/**
+	 * Read the this object represents log entries for changes in the 1905 Network Topology. The Change Log is a First In First Out queue where the oldest entries (defined by values of the {{param|TimeStamp}} parameter) are deleted once the log is full.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ChangeLog> viewChangeLogs() {
+		return changeLogs == null ? Collections.emptyList() : changeLogs;
+	}
+
 	/**
 	 * Set the this object represents log entries for changes in the 1905 Network Topology. The Change Log is a First In First Out queue where the oldest entries (defined by values of the {{param|TimeStamp}} parameter) are deleted once the log is full.
 	 *
@@ -261,10 +286,20 @@ public class NetworkTopology {
 	 * @return the value
 	 */
 	public Collection<IEEE1905Device> getIeeE1905Devices() {
-		if (this.ieeE1905Devices == null){ this.ieeE1905Devices=new ArrayList<>();}
+		if (!(this.ieeE1905Devices instanceof InstanceTable)){ this.ieeE1905Devices=InstanceTable.of(this.ieeE1905Devices);}
 		return ieeE1905Devices;
 	}
 
+	/**
+	 * Read the this object represents an instance of discovered 1905 Devices in the network (received Topology discovery message as defined in {{bibref|IEEE1905.1a|Clause 6.3.1}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IEEE1905Device> viewIeeE1905Devices() {
+		return ieeE1905Devices == null ? Collections.emptyList() : ieeE1905Devices;
+	}
+
 	/**
 	 * Set the this object represents an instance of discovered 1905 Devices in the network (received Topology discovery message as defined in {{bibref|IEEE1905.1a|Clause 6.3.1}}).
 	 *
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -56,6 +57,11 @@ public class NetworkingRegistrar {
 	@XmlElement(name = "Registrar60")
 	public MACAddress registrar60;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NetworkingRegistrar() {
 	}
 
@@ -78,6 +84,7 @@ public class NetworkingRegistrar {
 	 */
 	public void  setRegistrar2dot4(MACAddress registrar2dot4) {
 		this.registrar2dot4 = registrar2dot4;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -89,6 +96,7 @@ public class NetworkingRegistrar {
 	 */
 	public NetworkingRegistrar withRegistrar2dot4(MACAddress registrar2dot4) {
 		this.registrar2dot4 = registrar2dot4;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -110,6 +118,7 @@ public class NetworkingRegistrar {
 	 */
 	public void  setRegistrar5(MACAddress registrar5) {
 		this.registrar5 = registrar5;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -121,6 +130,7 @@ public class NetworkingRegistrar {
 	 */
 	public NetworkingRegistrar withRegistrar5(MACAddress registrar5) {
 		this.registrar5 = registrar5;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -142,6 +152,7 @@ public class NetworkingRegistrar {
 	 */
 	public void  setRegistrar60(MACAddress registrar60) {
 		this.registrar60 = registrar60;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -153,6 +164,7 @@ public class NetworkingRegistrar {
 	 */
 	public NetworkingRegistrar withRegistrar60(MACAddress registrar60) {
 		this.registrar60 = registrar60;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
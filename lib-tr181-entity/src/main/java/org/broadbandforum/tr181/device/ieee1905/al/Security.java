@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ieee1905.al;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object represents the Security configuration for the 1905 device as defined in {{bibref|IEEE1905.1a|Section 9.2 Security Setup Methods}}.
@@ -59,6 +61,11 @@ Enumerated value must be one of [UCPK, PBC, NFCNK]
 	@CWMPParameter(access = "readWrite")
 	public String password;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Security() {
 	}
 
@@ -76,6 +83,19 @@ Enumerated value must be one of [UCPK, PBC, NFCNK]
 		return setupMethod;
 	}
 
+	/**
+	 * Read the {{list}} Supported security setup method(s) for the network. 
+
+Enumerated value must be one of [UCPK, PBC, NFCNK]
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSetupMethod() {
+		return setupMethod == null ? Collections.emptyList() : setupMethod;
+	}
+
 	/**
 	 * Set the {{list}} Supported security setup method(s) for the network. 
 
@@ -86,6 +106,7 @@ Enumerated value must be one of [UCPK, PBC, NFCNK]
 	 */
 	public void  setSetupMethod(Collection<String> setupMethod) {
 		this.setupMethod = setupMethod;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -99,6 +120,7 @@ Enumerated value must be one of [UCPK, PBC, NFCNK]
 	 */
 	public Security withSetupMethod(String string) {
 		getSetupMethod().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -120,6 +142,7 @@ Enumerated value must be one of [UCPK, PBC, NFCNK]
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -131,6 +154,7 @@ Enumerated value must be one of [UCPK, PBC, NFCNK]
 	 */
 	public Security withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
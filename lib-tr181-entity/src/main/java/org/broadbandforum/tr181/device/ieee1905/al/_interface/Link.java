@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ieee1905.al._interface.link.Metric;
 
@@ -89,6 +91,16 @@ public class Link {
 	@XmlElement(name = "Metric")
 	public Metric metric;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Link() {
 	}
 
@@ -111,6 +123,8 @@ public class Link {
 	 */
 	public void  setInterfaceId(MACAddress interfaceId) {
 		this.interfaceId = interfaceId;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -122,6 +136,8 @@ public class Link {
 	 */
 	public Link withInterfaceId(MACAddress interfaceId) {
 		this.interfaceId = interfaceId;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -143,6 +159,8 @@ public class Link {
 	 */
 	public void  setIeeE1905Id(MACAddress ieeE1905Id) {
 		this.ieeE1905Id = ieeE1905Id;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -154,6 +172,8 @@ public class Link {
 	 */
 	public Link withIeeE1905Id(MACAddress ieeE1905Id) {
 		this.ieeE1905Id = ieeE1905Id;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -175,6 +195,7 @@ public class Link {
 	 */
 	public void  setMediaType(String mediaType) {
 		this.mediaType = mediaType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +207,7 @@ public class Link {
 	 */
 	public Link withMediaType(String mediaType) {
 		this.mediaType = mediaType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -207,6 +229,7 @@ public class Link {
 	 */
 	public void  setGenericPhyOUI(String genericPhyOUI) {
 		this.genericPhyOUI = genericPhyOUI;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -218,6 +241,7 @@ public class Link {
 	 */
 	public Link withGenericPhyOUI(String genericPhyOUI) {
 		this.genericPhyOUI = genericPhyOUI;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -239,6 +263,7 @@ public class Link {
 	 */
 	public void  setGenericPhyVariant(byte[] genericPhyVariant) {
 		this.genericPhyVariant = genericPhyVariant;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -250,6 +275,7 @@ public class Link {
 	 */
 	public Link withGenericPhyVariant(byte[] genericPhyVariant) {
 		this.genericPhyVariant = genericPhyVariant;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -271,6 +297,7 @@ public class Link {
 	 */
 	public void  setGenericPhyURL(String genericPhyURL) {
 		this.genericPhyURL = genericPhyURL;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -282,6 +309,7 @@ public class Link {
 	 */
 	public Link withGenericPhyURL(String genericPhyURL) {
 		this.genericPhyURL = genericPhyURL;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
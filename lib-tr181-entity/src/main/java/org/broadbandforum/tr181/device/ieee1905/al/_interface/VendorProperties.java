@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object defines the vendor specific properties (vendorSpecificInfo field) of this {{object|##.Interface}} as defined in {{bibref|IEEE1905.1a|Table 5-2: intfDescriptor elements}}.
@@ -52,6 +53,11 @@ public class VendorProperties {
 	@XmlElement(name = "Information")
 	public byte[] information;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VendorProperties() {
 	}
 
@@ -74,6 +80,7 @@ public class VendorProperties {
 	 */
 	public void  setOui(String oui) {
 		this.oui = oui;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -85,6 +92,7 @@ public class VendorProperties {
 	 */
 	public VendorProperties withOui(String oui) {
 		this.oui = oui;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -106,6 +114,7 @@ public class VendorProperties {
 	 */
 	public void  setInformation(byte[] information) {
 		this.information = information;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -117,6 +126,7 @@ public class VendorProperties {
 	 */
 	public VendorProperties withInformation(byte[] information) {
 		this.information = information;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
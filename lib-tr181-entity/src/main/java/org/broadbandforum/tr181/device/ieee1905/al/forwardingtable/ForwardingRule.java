@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ieee1905.al.forwardingtable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -141,6 +143,11 @@ public class ForwardingRule {
 	@CWMPParameter(access = "readWrite")
 	public Boolean pcpFlag;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ForwardingRule() {
 	}
 
@@ -156,6 +163,17 @@ public class ForwardingRule {
 		return interfaceList;
 	}
 
+	/**
+	 * Read the list of interfaces to which a frame satisfying the following classification criteria should be forwarded (intfAddressList parameter as defined in {{bibref|IEEE1905.1a|Table 5-8: ALME-SET-FWD-RULE.request parameters and Table 5-12: fwdRuleList elements}}). {{list}} Each list item MUST be the path name of an object, which MUST be a row of an {{object|##.Interface}} object. If the referenced item is deleted, the corresponding item MUST be removed from the list. {{noreference}}
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewInterfaceList() {
+		return interfaceList == null ? Collections.emptyList() : interfaceList;
+	}
+
 	/**
 	 * Set the list of interfaces to which a frame satisfying the following classification criteria should be forwarded (intfAddressList parameter as defined in {{bibref|IEEE1905.1a|Table 5-8: ALME-SET-FWD-RULE.request parameters and Table 5-12: fwdRuleList elements}}). {{list}} Each list item MUST be the path name of an object, which MUST be a row of an {{object|##.Interface}} object. If the referenced item is deleted, the corresponding item MUST be removed from the list. {{noreference}}
 	 *
@@ -164,6 +182,7 @@ public class ForwardingRule {
 	 */
 	public void  setInterfaceList(Collection<String> interfaceList) {
 		this.interfaceList = interfaceList;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -175,6 +194,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withInterfaceList(String string) {
 		getInterfaceList().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -200,6 +220,7 @@ public class ForwardingRule {
 	 */
 	public void  setMacDestinationAddress(MACAddress macDestinationAddress) {
 		this.macDestinationAddress = macDestinationAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -213,6 +234,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withMacDestinationAddress(MACAddress macDestinationAddress) {
 		this.macDestinationAddress = macDestinationAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -234,6 +256,7 @@ public class ForwardingRule {
 	 */
 	public void  setMacDestinationAddressFlag(Boolean macDestinationAddressFlag) {
 		this.macDestinationAddressFlag = macDestinationAddressFlag;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -245,6 +268,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withMacDestinationAddressFlag(Boolean macDestinationAddressFlag) {
 		this.macDestinationAddressFlag = macDestinationAddressFlag;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -270,6 +294,7 @@ public class ForwardingRule {
 	 */
 	public void  setMacSourceAddress(MACAddress macSourceAddress) {
 		this.macSourceAddress = macSourceAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -283,6 +308,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withMacSourceAddress(MACAddress macSourceAddress) {
 		this.macSourceAddress = macSourceAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -304,6 +330,7 @@ public class ForwardingRule {
 	 */
 	public void  setMacSourceAddressFlag(Boolean macSourceAddressFlag) {
 		this.macSourceAddressFlag = macSourceAddressFlag;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -315,6 +342,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withMacSourceAddressFlag(Boolean macSourceAddressFlag) {
 		this.macSourceAddressFlag = macSourceAddressFlag;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -340,6 +368,7 @@ public class ForwardingRule {
 	 */
 	public void  setEtherType(Long etherType) {
 		this.etherType = etherType;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -353,6 +382,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withEtherType(Long etherType) {
 		this.etherType = etherType;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -374,6 +404,7 @@ public class ForwardingRule {
 	 */
 	public void  setEtherTypeFlag(Boolean etherTypeFlag) {
 		this.etherTypeFlag = etherTypeFlag;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -385,6 +416,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withEtherTypeFlag(Boolean etherTypeFlag) {
 		this.etherTypeFlag = etherTypeFlag;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -410,6 +442,7 @@ public class ForwardingRule {
 	 */
 	public void  setVid(Long vid) {
 		this.vid = vid;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -423,6 +456,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withVid(Long vid) {
 		this.vid = vid;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -444,6 +478,7 @@ public class ForwardingRule {
 	 */
 	public void  setVidFlag(Boolean vidFlag) {
 		this.vidFlag = vidFlag;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -455,6 +490,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withVidFlag(Boolean vidFlag) {
 		this.vidFlag = vidFlag;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -480,6 +516,7 @@ public class ForwardingRule {
 	 */
 	public void  setPcp(Long pcp) {
 		this.pcp = pcp;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -493,6 +530,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withPcp(Long pcp) {
 		this.pcp = pcp;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -514,6 +552,7 @@ public class ForwardingRule {
 	 */
 	public void  setPcpFlag(Boolean pcpFlag) {
 		this.pcpFlag = pcpFlag;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -525,6 +564,7 @@ public class ForwardingRule {
 	 */
 	public ForwardingRule withPcpFlag(Boolean pcpFlag) {
 		this.pcpFlag = pcpFlag;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
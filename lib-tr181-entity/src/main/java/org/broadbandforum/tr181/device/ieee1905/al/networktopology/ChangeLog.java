@@ -21,8 +21,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object represents log entries for changes in the 1905 Network Topology. The Change Log is a First In First Out queue where the oldest entries (defined by values of the {{param|TimeStamp}} parameter) are deleted once the log is full.
@@ -41,6 +44,7 @@ public class ChangeLog {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "TimeStamp")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime timeStamp;
 	/**
 	 * Type of event for this entry. {{enum}}
@@ -80,6 +84,11 @@ public class ChangeLog {
 	@XmlElement(name = "NeighborId")
 	public MACAddress neighborId;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ChangeLog() {
 	}
 
@@ -102,6 +111,7 @@ public class ChangeLog {
 	 */
 	public void  setTimeStamp(LocalDateTime timeStamp) {
 		this.timeStamp = timeStamp;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +123,7 @@ public class ChangeLog {
 	 */
 	public ChangeLog withTimeStamp(LocalDateTime timeStamp) {
 		this.timeStamp = timeStamp;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -134,6 +145,7 @@ public class ChangeLog {
 	 */
 	public void  setEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -145,6 +157,7 @@ public class ChangeLog {
 	 */
 	public ChangeLog withEventType(String eventType) {
 		this.eventType = eventType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -166,6 +179,7 @@ public class ChangeLog {
 	 */
 	public void  setReporterDeviceId(MACAddress reporterDeviceId) {
 		this.reporterDeviceId = reporterDeviceId;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -177,6 +191,7 @@ public class ChangeLog {
 	 */
 	public ChangeLog withReporterDeviceId(MACAddress reporterDeviceId) {
 		this.reporterDeviceId = reporterDeviceId;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -198,6 +213,7 @@ public class ChangeLog {
 	 */
 	public void  setReporterInterfaceId(MACAddress reporterInterfaceId) {
 		this.reporterInterfaceId = reporterInterfaceId;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -209,6 +225,7 @@ public class ChangeLog {
 	 */
 	public ChangeLog withReporterInterfaceId(MACAddress reporterInterfaceId) {
 		this.reporterInterfaceId = reporterInterfaceId;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -230,6 +247,7 @@ public class ChangeLog {
 	 */
 	public void  setNeighborType(String neighborType) {
 		this.neighborType = neighborType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -241,6 +259,7 @@ public class ChangeLog {
 	 */
 	public ChangeLog withNeighborType(String neighborType) {
 		this.neighborType = neighborType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -266,6 +285,7 @@ public class ChangeLog {
 	 */
 	public void  setNeighborId(MACAddress neighborId) {
 		this.neighborId = neighborId;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -279,6 +299,7 @@ public class ChangeLog {
 	 */
 	public ChangeLog withNeighborId(MACAddress neighborId) {
 		this.neighborId = neighborId;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
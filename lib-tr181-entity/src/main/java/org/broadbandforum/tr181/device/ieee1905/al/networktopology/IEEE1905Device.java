@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ieee1905.al.networktopology;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ieee1905.al.networktopology.ieee1905device.BridgingTuple;
 import org.broadbandforum.tr181.device.ieee1905.al.networktopology.ieee1905device.IEEE1905Neighbor;
@@ -154,6 +157,16 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	@XmlElement(name = "BridgingTuple")
 	public Collection<BridgingTuple> bridgingTuples;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IEEE1905Device() {
 	}
 
@@ -176,6 +189,8 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public void  setIeeE1905Id(MACAddress ieeE1905Id) {
 		this.ieeE1905Id = ieeE1905Id;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -187,6 +202,8 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public IEEE1905Device withIeeE1905Id(MACAddress ieeE1905Id) {
 		this.ieeE1905Id = ieeE1905Id;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -208,6 +225,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -219,6 +237,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public IEEE1905Device withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -235,6 +254,19 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 		return registrarFreqBand;
 	}
 
+	/**
+	 * Read the {{list}} of frequency bands identified as supported for a registrar role in an AP-autoconfiguration response message as defined in {{bibref|IEEE1905.1a|Table 6-25: SupportedFreqBand TLV}} 
+
+Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRegistrarFreqBand() {
+		return registrarFreqBand == null ? Collections.emptyList() : registrarFreqBand;
+	}
+
 	/**
 	 * Set the {{list}} of frequency bands identified as supported for a registrar role in an AP-autoconfiguration response message as defined in {{bibref|IEEE1905.1a|Table 6-25: SupportedFreqBand TLV}} 
 
@@ -245,6 +277,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public void  setRegistrarFreqBand(Collection<String> registrarFreqBand) {
 		this.registrarFreqBand = registrarFreqBand;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -258,6 +291,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public IEEE1905Device withRegistrarFreqBand(String string) {
 		getRegistrarFreqBand().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -279,6 +313,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public void  setFriendlyName(String friendlyName) {
 		this.friendlyName = friendlyName;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -290,6 +325,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public IEEE1905Device withFriendlyName(String friendlyName) {
 		this.friendlyName = friendlyName;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -311,6 +347,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public void  setManufacturerName(String manufacturerName) {
 		this.manufacturerName = manufacturerName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -322,6 +359,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public IEEE1905Device withManufacturerName(String manufacturerName) {
 		this.manufacturerName = manufacturerName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -343,6 +381,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public void  setManufacturerModel(String manufacturerModel) {
 		this.manufacturerModel = manufacturerModel;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -354,6 +393,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public IEEE1905Device withManufacturerModel(String manufacturerModel) {
 		this.manufacturerModel = manufacturerModel;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -375,6 +415,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public void  setControlURL(String controlURL) {
 		this.controlURL = controlURL;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -386,6 +427,7 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 */
 	public IEEE1905Device withControlURL(String controlURL) {
 		this.controlURL = controlURL;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -395,10 +437,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<IPv4Address> getIpv4Addresss() {
-		if (this.ipv4Addresss == null){ this.ipv4Addresss=new ArrayList<>();}
+		if (!(this.ipv4Addresss instanceof InstanceTable)){ this.ipv4Addresss=InstanceTable.of(this.ipv4Addresss);}
 		return ipv4Addresss;
 	}
 
+	/**
+	 * Read the this object represents represents all IPv4 addresses reported for a MAC address (AL or interface) in a Higher Layer response message for the IEEE1905Device as defined in {{bibref|IEEE1905.1a|Table 6-32: IPv4 type TLV}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv4Address> viewIpv4Addresss() {
+		return ipv4Addresss == null ? Collections.emptyList() : ipv4Addresss;
+	}
+
 	/**
 	 * Set the this object represents represents all IPv4 addresses reported for a MAC address (AL or interface) in a Higher Layer response message for the IEEE1905Device as defined in {{bibref|IEEE1905.1a|Table 6-32: IPv4 type TLV}}.
 	 *
@@ -425,10 +477,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<IPv6Address> getIpv6Addresss() {
-		if (this.ipv6Addresss == null){ this.ipv6Addresss=new ArrayList<>();}
+		if (!(this.ipv6Addresss instanceof InstanceTable)){ this.ipv6Addresss=InstanceTable.of(this.ipv6Addresss);}
 		return ipv6Addresss;
 	}
 
+	/**
+	 * Read the this object represents represents all IPv6 addresses reported for a MAC address (AL or interface) in a Higher Layer response message for the IEEE1905Device as defined in {{bibref|IEEE1905.1a|Table 6-34: IPv6 type TLV}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv6Address> viewIpv6Addresss() {
+		return ipv6Addresss == null ? Collections.emptyList() : ipv6Addresss;
+	}
+
 	/**
 	 * Set the this object represents represents all IPv6 addresses reported for a MAC address (AL or interface) in a Higher Layer response message for the IEEE1905Device as defined in {{bibref|IEEE1905.1a|Table 6-34: IPv6 type TLV}}.
 	 *
@@ -455,10 +517,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<VendorProperties> getVendorPropertiess() {
-		if (this.vendorPropertiess == null){ this.vendorPropertiess=new ArrayList<>();}
+		if (!(this.vendorPropertiess instanceof InstanceTable)){ this.vendorPropertiess=InstanceTable.of(this.vendorPropertiess);}
 		return vendorPropertiess;
 	}
 
+	/**
+	 * Read the this object represents vendor specific information received in a message with a Vendor specific TLV (as defined in in {{bibref|IEEE1905.1a|Table 6-7: Vendor specific TLV}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VendorProperties> viewVendorPropertiess() {
+		return vendorPropertiess == null ? Collections.emptyList() : vendorPropertiess;
+	}
+
 	/**
 	 * Set the this object represents vendor specific information received in a message with a Vendor specific TLV (as defined in in {{bibref|IEEE1905.1a|Table 6-7: Vendor specific TLV}}).
 	 *
@@ -485,10 +557,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<Interface> getInterfaces() {
-		if (this.interfaces == null){ this.interfaces=new ArrayList<>();}
+		if (!(this.interfaces instanceof InstanceTable)){ this.interfaces=InstanceTable.of(this.interfaces);}
 		return interfaces;
 	}
 
+	/**
+	 * Read the this object represents an instance of an interface for the {{object|##.IEEE1905Device}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Interface> viewInterfaces() {
+		return interfaces == null ? Collections.emptyList() : interfaces;
+	}
+
 	/**
 	 * Set the this object represents an instance of an interface for the {{object|##.IEEE1905Device}}.
 	 *
@@ -515,10 +597,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<NonIEEE1905Neighbor> getNonIEEE1905Neighbors() {
-		if (this.nonIEEE1905Neighbors == null){ this.nonIEEE1905Neighbors=new ArrayList<>();}
+		if (!(this.nonIEEE1905Neighbors instanceof InstanceTable)){ this.nonIEEE1905Neighbors=InstanceTable.of(this.nonIEEE1905Neighbors);}
 		return nonIEEE1905Neighbors;
 	}
 
+	/**
+	 * Read the this object represents an instance of a Non-IEEE1905 Neighbor for the {{object|##.IEEE1905Device}}. These fields come from a Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-14: Non-1905 neighbor device TLV}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<NonIEEE1905Neighbor> viewNonIEEE1905Neighbors() {
+		return nonIEEE1905Neighbors == null ? Collections.emptyList() : nonIEEE1905Neighbors;
+	}
+
 	/**
 	 * Set the this object represents an instance of a Non-IEEE1905 Neighbor for the {{object|##.IEEE1905Device}}. These fields come from a Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-14: Non-1905 neighbor device TLV}}.
 	 *
@@ -545,10 +637,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<L2Neighbor> getL2neighbors() {
-		if (this.l2neighbors == null){ this.l2neighbors=new ArrayList<>();}
+		if (!(this.l2neighbors instanceof InstanceTable)){ this.l2neighbors=InstanceTable.of(this.l2neighbors);}
 		return l2neighbors;
 	}
 
+	/**
+	 * Read the this object represents an instance of an L2 Neighbor for the {{object|##.IEEE1905Device}}. These fields come from a Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-41: L2 neighbor device TLV}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<L2Neighbor> viewL2neighbors() {
+		return l2neighbors == null ? Collections.emptyList() : l2neighbors;
+	}
+
 	/**
 	 * Set the this object represents an instance of an L2 Neighbor for the {{object|##.IEEE1905Device}}. These fields come from a Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-41: L2 neighbor device TLV}}.
 	 *
@@ -575,10 +677,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<IEEE1905Neighbor> getIeeE1905Neighbors() {
-		if (this.ieeE1905Neighbors == null){ this.ieeE1905Neighbors=new ArrayList<>();}
+		if (!(this.ieeE1905Neighbors instanceof InstanceTable)){ this.ieeE1905Neighbors=InstanceTable.of(this.ieeE1905Neighbors);}
 		return ieeE1905Neighbors;
 	}
 
+	/**
+	 * Read the this object represents an instance of an {{object}} for the {{object|##.IEEE1905Device}}. These values are from the Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-15: 1905 neighbor device TLV}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IEEE1905Neighbor> viewIeeE1905Neighbors() {
+		return ieeE1905Neighbors == null ? Collections.emptyList() : ieeE1905Neighbors;
+	}
+
 	/**
 	 * Set the this object represents an instance of an {{object}} for the {{object|##.IEEE1905Device}}. These values are from the Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-15: 1905 neighbor device TLV}}.
 	 *
@@ -605,10 +717,20 @@ Enumerated value must be one of [802.11 2.4 GHz, 802.11 5 GHz, 802.11 60 GHz].
 	 * @return the value
 	 */
 	public Collection<BridgingTuple> getBridgingTuples() {
-		if (this.bridgingTuples == null){ this.bridgingTuples=new ArrayList<>();}
+		if (!(this.bridgingTuples instanceof InstanceTable)){ this.bridgingTuples=InstanceTable.of(this.bridgingTuples);}
 		return bridgingTuples;
 	}
 
+	/**
+	 * Read the this object represents an instance of an {{object}} for the {{object|##.IEEE1905Device}}. These values come from the 1905 Device’s Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-11: Device bridging capability TLV}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BridgingTuple> viewBridgingTuples() {
+		return bridgingTuples == null ? Collections.emptyList() : bridgingTuples;
+	}
+
 	/**
 	 * Set the this object represents an instance of an {{object}} for the {{object|##.IEEE1905Device}}. These values come from the 1905 Device’s Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-11: Device bridging capability TLV}}.
 	 *
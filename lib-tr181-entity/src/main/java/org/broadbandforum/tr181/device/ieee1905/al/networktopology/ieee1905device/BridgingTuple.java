@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ieee1905.al.networktopology.ieee1905devi
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object represents an instance of an {{object}} for the {{object|##.IEEE1905Device}}. These values come from the 1905 Device’s Topology response message as defined in {{bibref|IEEE1905.1a|Table 6-11: Device bridging capability TLV}}.
@@ -45,6 +47,11 @@ public class BridgingTuple {
 	@XmlList
 	public Collection<String> interfaceList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public BridgingTuple() {
 	}
 
@@ -60,6 +67,17 @@ public class BridgingTuple {
 		return interfaceList;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewInterfaceList() {
+		return interfaceList == null ? Collections.emptyList() : interfaceList;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 	 *
@@ -68,6 +86,7 @@ public class BridgingTuple {
 	 */
 	public void  setInterfaceList(Collection<String> interfaceList) {
 		this.interfaceList = interfaceList;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -79,6 +98,7 @@ public class BridgingTuple {
 	 */
 	public BridgingTuple withInterfaceList(String string) {
 		getInterfaceList().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
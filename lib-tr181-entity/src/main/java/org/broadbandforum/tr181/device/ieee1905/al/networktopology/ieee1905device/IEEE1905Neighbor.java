@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.ieee1905.al.networktopology.ieee1905device;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.ieee1905.al.networktopology.ieee1905device.ieee1905neighbor.Metric;
 
@@ -62,6 +64,16 @@ public class IEEE1905Neighbor {
 	@XmlElement(name = "Metric")
 	public Collection<Metric> metrics;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IEEE1905Neighbor() {
 	}
 
@@ -84,6 +96,8 @@ public class IEEE1905Neighbor {
 	 */
 	public void  setLocalInterface(String localInterface) {
 		this.localInterface = localInterface;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -95,6 +109,8 @@ public class IEEE1905Neighbor {
 	 */
 	public IEEE1905Neighbor withLocalInterface(String localInterface) {
 		this.localInterface = localInterface;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -116,6 +132,8 @@ public class IEEE1905Neighbor {
 	 */
 	public void  setNeighborDeviceId(MACAddress neighborDeviceId) {
 		this.neighborDeviceId = neighborDeviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -127,6 +145,8 @@ public class IEEE1905Neighbor {
 	 */
 	public IEEE1905Neighbor withNeighborDeviceId(MACAddress neighborDeviceId) {
 		this.neighborDeviceId = neighborDeviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -136,10 +156,20 @@ public class IEEE1905Neighbor {
 	 * @return the value
 	 */
 	public Collection<Metric> getMetrics() {
-		if (this.metrics == null){ this.metrics=new ArrayList<>();}
+		if (!(this.metrics instanceof InstanceTable)){ this.metrics=InstanceTable.of(this.metrics);}
 		return metrics;
 	}
 
+	/**
+	 * Read the this object represents the metrics included in a Link metric response from the IEEE1905Device where {{param|#.LocalInterface}} is the MAC address of an interface in the receiving 1905 AL as defined in {{bibref|IEEE1905.1a|Table 6-17: 1905 transmitter link metric TLV}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Metric> viewMetrics() {
+		return metrics == null ? Collections.emptyList() : metrics;
+	}
+
 	/**
 	 * Set the this object represents the metrics included in a Link metric response from the IEEE1905Device where {{param|#.LocalInterface}} is the MAC address of an interface in the receiving 1905 AL as defined in {{bibref|IEEE1905.1a|Table 6-17: 1905 transmitter link metric TLV}}.
 	 *
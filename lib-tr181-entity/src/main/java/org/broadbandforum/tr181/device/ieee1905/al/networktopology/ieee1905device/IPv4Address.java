@@ -22,7 +22,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -65,6 +67,16 @@ public class IPv4Address {
 	@XmlElement(name = "DHCPServer")
 	public IPAddress dhcPServer;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPv4Address() {
 	}
 
@@ -87,6 +99,8 @@ public class IPv4Address {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -98,6 +112,8 @@ public class IPv4Address {
 	 */
 	public IPv4Address withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -119,6 +135,8 @@ public class IPv4Address {
 	 */
 	public void  setIpv4Address(org.broadbandforum.common.IPv4Address ipv4Address) {
 		this.ipv4Address = ipv4Address;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -130,6 +148,8 @@ public class IPv4Address {
 	 */
 	public IPv4Address withIpv4Address(org.broadbandforum.common.IPv4Address ipv4Address) {
 		this.ipv4Address = ipv4Address;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -151,6 +171,7 @@ public class IPv4Address {
 	 */
 	public void  setIpv4AddressType(String ipv4AddressType) {
 		this.ipv4AddressType = ipv4AddressType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -162,6 +183,7 @@ public class IPv4Address {
 	 */
 	public IPv4Address withIpv4AddressType(String ipv4AddressType) {
 		this.ipv4AddressType = ipv4AddressType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -183,6 +205,7 @@ public class IPv4Address {
 	 */
 	public void  setDhcPServer(IPAddress dhcPServer) {
 		this.dhcPServer = dhcPServer;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -194,6 +217,7 @@ public class IPv4Address {
 	 */
 	public IPv4Address withDhcPServer(IPAddress dhcPServer) {
 		this.dhcPServer = dhcPServer;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
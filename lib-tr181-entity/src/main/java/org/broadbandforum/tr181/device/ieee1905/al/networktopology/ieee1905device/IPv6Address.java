@@ -22,6 +22,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -64,6 +66,16 @@ public class IPv6Address {
 	@XmlElement(name = "IPv6AddressOrigin")
 	public org.broadbandforum.common.IPv6Address ipv6AddressOrigin;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPv6Address() {
 	}
 
@@ -86,6 +98,8 @@ public class IPv6Address {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -97,6 +111,8 @@ public class IPv6Address {
 	 */
 	public IPv6Address withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -118,6 +134,8 @@ public class IPv6Address {
 	 */
 	public void  setIpv6Address(org.broadbandforum.common.IPv6Address ipv6Address) {
 		this.ipv6Address = ipv6Address;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -129,6 +147,8 @@ public class IPv6Address {
 	 */
 	public IPv6Address withIpv6Address(org.broadbandforum.common.IPv6Address ipv6Address) {
 		this.ipv6Address = ipv6Address;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -150,6 +170,7 @@ public class IPv6Address {
 	 */
 	public void  setIpv6AddressType(String ipv6AddressType) {
 		this.ipv6AddressType = ipv6AddressType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -161,6 +182,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withIpv6AddressType(String ipv6AddressType) {
 		this.ipv6AddressType = ipv6AddressType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -182,6 +204,7 @@ public class IPv6Address {
 	 */
 	public void  setIpv6AddressOrigin(org.broadbandforum.common.IPv6Address ipv6AddressOrigin) {
 		this.ipv6AddressOrigin = ipv6AddressOrigin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -193,6 +216,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withIpv6AddressOrigin(org.broadbandforum.common.IPv6Address ipv6AddressOrigin) {
 		this.ipv6AddressOrigin = ipv6AddressOrigin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -118,6 +120,16 @@ public class Interface {
 	@XmlElement(name = "FrequencyIndex2")
 	public byte[] frequencyIndex2;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -140,6 +152,8 @@ public class Interface {
 	 */
 	public void  setInterfaceId(MACAddress interfaceId) {
 		this.interfaceId = interfaceId;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -151,6 +165,8 @@ public class Interface {
 	 */
 	public Interface withInterfaceId(MACAddress interfaceId) {
 		this.interfaceId = interfaceId;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -172,6 +188,7 @@ public class Interface {
 	 */
 	public void  setMediaType(String mediaType) {
 		this.mediaType = mediaType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -183,6 +200,7 @@ public class Interface {
 	 */
 	public Interface withMediaType(String mediaType) {
 		this.mediaType = mediaType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -204,6 +222,7 @@ public class Interface {
 	 */
 	public void  setPowerState(String powerState) {
 		this.powerState = powerState;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -215,6 +234,7 @@ public class Interface {
 	 */
 	public Interface withPowerState(String powerState) {
 		this.powerState = powerState;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -236,6 +256,7 @@ public class Interface {
 	 */
 	public void  setGenericPhyOUI(String genericPhyOUI) {
 		this.genericPhyOUI = genericPhyOUI;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -247,6 +268,7 @@ public class Interface {
 	 */
 	public Interface withGenericPhyOUI(String genericPhyOUI) {
 		this.genericPhyOUI = genericPhyOUI;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -268,6 +290,7 @@ public class Interface {
 	 */
 	public void  setGenericPhyVariant(byte[] genericPhyVariant) {
 		this.genericPhyVariant = genericPhyVariant;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -279,6 +302,7 @@ public class Interface {
 	 */
 	public Interface withGenericPhyVariant(byte[] genericPhyVariant) {
 		this.genericPhyVariant = genericPhyVariant;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -300,6 +324,7 @@ public class Interface {
 	 */
 	public void  setGenericPhyURL(String genericPhyURL) {
 		this.genericPhyURL = genericPhyURL;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -311,6 +336,7 @@ public class Interface {
 	 */
 	public Interface withGenericPhyURL(String genericPhyURL) {
 		this.genericPhyURL = genericPhyURL;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -332,6 +358,7 @@ public class Interface {
 	 */
 	public void  setNetworkMembership(MACAddress networkMembership) {
 		this.networkMembership = networkMembership;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -343,6 +370,7 @@ public class Interface {
 	 */
 	public Interface withNetworkMembership(MACAddress networkMembership) {
 		this.networkMembership = networkMembership;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -364,6 +392,7 @@ public class Interface {
 	 */
 	public void  setRole(String role) {
 		this.role = role;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -375,6 +404,7 @@ public class Interface {
 	 */
 	public Interface withRole(String role) {
 		this.role = role;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -396,6 +426,7 @@ public class Interface {
 	 */
 	public void  setApchannelBand(byte[] apchannelBand) {
 		this.apchannelBand = apchannelBand;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -407,6 +438,7 @@ public class Interface {
 	 */
 	public Interface withApchannelBand(byte[] apchannelBand) {
 		this.apchannelBand = apchannelBand;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -428,6 +460,7 @@ public class Interface {
 	 */
 	public void  setFrequencyIndex1(byte[] frequencyIndex1) {
 		this.frequencyIndex1 = frequencyIndex1;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -439,6 +472,7 @@ public class Interface {
 	 */
 	public Interface withFrequencyIndex1(byte[] frequencyIndex1) {
 		this.frequencyIndex1 = frequencyIndex1;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -460,6 +494,7 @@ public class Interface {
 	 */
 	public void  setFrequencyIndex2(byte[] frequencyIndex2) {
 		this.frequencyIndex2 = frequencyIndex2;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -471,6 +506,7 @@ public class Interface {
 	 */
 	public Interface withFrequencyIndex2(byte[] frequencyIndex2) {
 		this.frequencyIndex2 = frequencyIndex2;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
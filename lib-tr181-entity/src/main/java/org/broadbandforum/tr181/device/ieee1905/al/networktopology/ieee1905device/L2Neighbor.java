@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -59,6 +61,16 @@ public class L2Neighbor {
 	@XmlElement(name = "BehindInterfaceIds")
 	public MACAddress behindInterfaceIds;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public L2Neighbor() {
 	}
 
@@ -81,6 +93,8 @@ public class L2Neighbor {
 	 */
 	public void  setLocalInterface(String localInterface) {
 		this.localInterface = localInterface;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -92,6 +106,8 @@ public class L2Neighbor {
 	 */
 	public L2Neighbor withLocalInterface(String localInterface) {
 		this.localInterface = localInterface;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -113,6 +129,8 @@ public class L2Neighbor {
 	 */
 	public void  setNeighborInterfaceId(MACAddress neighborInterfaceId) {
 		this.neighborInterfaceId = neighborInterfaceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -124,6 +142,8 @@ public class L2Neighbor {
 	 */
 	public L2Neighbor withNeighborInterfaceId(MACAddress neighborInterfaceId) {
 		this.neighborInterfaceId = neighborInterfaceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -145,6 +165,7 @@ public class L2Neighbor {
 	 */
 	public void  setBehindInterfaceIds(MACAddress behindInterfaceIds) {
 		this.behindInterfaceIds = behindInterfaceIds;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -156,6 +177,7 @@ public class L2Neighbor {
 	 */
 	public L2Neighbor withBehindInterfaceIds(MACAddress behindInterfaceIds) {
 		this.behindInterfaceIds = behindInterfaceIds;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
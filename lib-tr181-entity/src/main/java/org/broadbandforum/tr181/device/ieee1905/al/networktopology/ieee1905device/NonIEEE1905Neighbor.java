@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -52,6 +54,16 @@ public class NonIEEE1905Neighbor {
 	@XmlElement(name = "NeighborInterfaceId")
 	public MACAddress neighborInterfaceId;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public NonIEEE1905Neighbor() {
 	}
 
@@ -74,6 +86,8 @@ public class NonIEEE1905Neighbor {
 	 */
 	public void  setLocalInterface(String localInterface) {
 		this.localInterface = localInterface;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -85,6 +99,8 @@ public class NonIEEE1905Neighbor {
 	 */
 	public NonIEEE1905Neighbor withLocalInterface(String localInterface) {
 		this.localInterface = localInterface;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -106,6 +122,8 @@ public class NonIEEE1905Neighbor {
 	 */
 	public void  setNeighborInterfaceId(MACAddress neighborInterfaceId) {
 		this.neighborInterfaceId = neighborInterfaceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -117,6 +135,8 @@ public class NonIEEE1905Neighbor {
 	 */
 	public NonIEEE1905Neighbor withNeighborInterfaceId(MACAddress neighborInterfaceId) {
 		this.neighborInterfaceId = neighborInterfaceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object represents vendor specific information received in a message with a Vendor specific TLV (as defined in in {{bibref|IEEE1905.1a|Table 6-7: Vendor specific TLV}}).
@@ -59,6 +60,11 @@ public class VendorProperties {
 	@XmlElement(name = "Information")
 	public byte[] information;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public VendorProperties() {
 	}
 
@@ -81,6 +87,7 @@ public class VendorProperties {
 	 */
 	public void  setMessageType(byte[] messageType) {
 		this.messageType = messageType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ public class VendorProperties {
 	 */
 	public VendorProperties withMessageType(byte[] messageType) {
 		this.messageType = messageType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,6 +121,7 @@ public class VendorProperties {
 	 */
 	public void  setOui(String oui) {
 		this.oui = oui;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -124,6 +133,7 @@ public class VendorProperties {
 	 */
 	public VendorProperties withOui(String oui) {
 		this.oui = oui;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -145,6 +155,7 @@ public class VendorProperties {
 	 */
 	public void  setInformation(byte[] information) {
 		this.information = information;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -156,6 +167,7 @@ public class VendorProperties {
 	 */
 	public VendorProperties withInformation(byte[] information) {
 		this.information = information;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.common.StatsCounter32;
 
@@ -110,6 +112,16 @@ public class Metric {
 	@Size(min = 0, max = 255)
 	public Long rssI;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Metric() {
 	}
 
@@ -132,6 +144,8 @@ public class Metric {
 	 */
 	public void  setNeighborMACAddress(MACAddress neighborMACAddress) {
 		this.neighborMACAddress = neighborMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -143,6 +157,8 @@ public class Metric {
 	 */
 	public Metric withNeighborMACAddress(MACAddress neighborMACAddress) {
 		this.neighborMACAddress = neighborMACAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -164,6 +180,7 @@ public class Metric {
 	 */
 	public void  setIeeE802dot1Bridge(Boolean ieeE802dot1Bridge) {
 		this.ieeE802dot1Bridge = ieeE802dot1Bridge;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -175,6 +192,7 @@ public class Metric {
 	 */
 	public Metric withIeeE802dot1Bridge(Boolean ieeE802dot1Bridge) {
 		this.ieeE802dot1Bridge = ieeE802dot1Bridge;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -196,6 +214,7 @@ public class Metric {
 	 */
 	public void  setPacketErrors(StatsCounter32 packetErrors) {
 		this.packetErrors = packetErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -207,6 +226,7 @@ public class Metric {
 	 */
 	public Metric withPacketErrors(StatsCounter32 packetErrors) {
 		this.packetErrors = packetErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -228,6 +248,7 @@ public class Metric {
 	 */
 	public void  setPacketErrorsReceived(StatsCounter32 packetErrorsReceived) {
 		this.packetErrorsReceived = packetErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -239,6 +260,7 @@ public class Metric {
 	 */
 	public Metric withPacketErrorsReceived(StatsCounter32 packetErrorsReceived) {
 		this.packetErrorsReceived = packetErrorsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -260,6 +282,7 @@ public class Metric {
 	 */
 	public void  setTransmittedPackets(StatsCounter32 transmittedPackets) {
 		this.transmittedPackets = transmittedPackets;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -271,6 +294,7 @@ public class Metric {
 	 */
 	public Metric withTransmittedPackets(StatsCounter32 transmittedPackets) {
 		this.transmittedPackets = transmittedPackets;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -292,6 +316,7 @@ public class Metric {
 	 */
 	public void  setPacketsReceived(StatsCounter32 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -303,6 +328,7 @@ public class Metric {
 	 */
 	public Metric withPacketsReceived(StatsCounter32 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -324,6 +350,7 @@ public class Metric {
 	 */
 	public void  setMacThroughputCapacity(Long macThroughputCapacity) {
 		this.macThroughputCapacity = macThroughputCapacity;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -335,6 +362,7 @@ public class Metric {
 	 */
 	public Metric withMacThroughputCapacity(Long macThroughputCapacity) {
 		this.macThroughputCapacity = macThroughputCapacity;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -356,6 +384,7 @@ public class Metric {
 	 */
 	public void  setLinkAvailability(Long linkAvailability) {
 		this.linkAvailability = linkAvailability;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -367,6 +396,7 @@ public class Metric {
 	 */
 	public Metric withLinkAvailability(Long linkAvailability) {
 		this.linkAvailability = linkAvailability;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -388,6 +418,7 @@ public class Metric {
 	 */
 	public void  setPhyRate(Long phyRate) {
 		this.phyRate = phyRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -399,6 +430,7 @@ public class Metric {
 	 */
 	public Metric withPhyRate(Long phyRate) {
 		this.phyRate = phyRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -420,6 +452,7 @@ public class Metric {
 	 */
 	public void  setRssI(Long rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -431,6 +464,7 @@ public class Metric {
 	 */
 	public Metric withRssI(Long rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ieee8021x;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ieee8021x.supplicant.EAPMD5;
 import org.broadbandforum.tr181.device.ieee8021x.supplicant.EAPTLS;
 import org.broadbandforum.tr181.device.ieee8021x.supplicant.Stats;
@@ -201,6 +204,16 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	@XmlElement(name = "EAPTLS")
 	public EAPTLS eapTLS;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Supplicant() {
 	}
 
@@ -223,6 +236,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -234,6 +248,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -263,6 +278,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -278,6 +294,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -299,6 +316,8 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -310,6 +329,8 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -331,6 +352,8 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -342,6 +365,8 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -363,6 +388,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setPaeState(String paeState) {
 		this.paeState = paeState;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -374,6 +400,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withPaeState(String paeState) {
 		this.paeState = paeState;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -395,6 +422,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setEapIdentity(String eapIdentity) {
 		this.eapIdentity = eapIdentity;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -406,6 +434,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withEapIdentity(String eapIdentity) {
 		this.eapIdentity = eapIdentity;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -431,6 +460,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setMaxStart(Long maxStart) {
 		this.maxStart = maxStart;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -444,6 +474,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withMaxStart(Long maxStart) {
 		this.maxStart = maxStart;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -465,6 +496,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setStartPeriod(Long startPeriod) {
 		this.startPeriod = startPeriod;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -476,6 +508,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withStartPeriod(Long startPeriod) {
 		this.startPeriod = startPeriod;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -497,6 +530,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setHeldPeriod(Long heldPeriod) {
 		this.heldPeriod = heldPeriod;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -508,6 +542,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withHeldPeriod(Long heldPeriod) {
 		this.heldPeriod = heldPeriod;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -529,6 +564,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setAuthPeriod(Long authPeriod) {
 		this.authPeriod = authPeriod;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -540,6 +576,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withAuthPeriod(Long authPeriod) {
 		this.authPeriod = authPeriod;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -556,6 +593,19 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 		return authenticationCapabilities;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the authentication methods supported by the device.  
+
+Enumerated value must be one of [EAP-TLS, EAP-MD5]
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAuthenticationCapabilities() {
+		return authenticationCapabilities == null ? Collections.emptyList() : authenticationCapabilities;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the authentication methods supported by the device.  
 
@@ -566,6 +616,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setAuthenticationCapabilities(Collection<String> authenticationCapabilities) {
 		this.authenticationCapabilities = authenticationCapabilities;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -579,6 +630,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withAuthenticationCapabilities(String string) {
 		getAuthenticationCapabilities().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -604,6 +656,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setStartFailurePolicy(String startFailurePolicy) {
 		this.startFailurePolicy = startFailurePolicy;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -617,6 +670,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withStartFailurePolicy(String startFailurePolicy) {
 		this.startFailurePolicy = startFailurePolicy;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -638,6 +692,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setAuthenticationSuccessPolicy(String authenticationSuccessPolicy) {
 		this.authenticationSuccessPolicy = authenticationSuccessPolicy;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -649,6 +704,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withAuthenticationSuccessPolicy(String authenticationSuccessPolicy) {
 		this.authenticationSuccessPolicy = authenticationSuccessPolicy;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -674,6 +730,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -687,6 +744,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -712,6 +770,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public void  setDisconnect(Boolean disconnect) {
 		this.disconnect = disconnect;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -725,6 +784,7 @@ Enumerated value must be one of [EAP-TLS, EAP-MD5]
 	 */
 	public Supplicant withDisconnect(Boolean disconnect) {
 		this.disconnect = disconnect;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * 802.1x Authentication Supplicant provisioning information used for MD5 shared secret exchange. This object will not exist if EAP-MD5 is not a supported authentication type.
@@ -53,6 +54,11 @@ public class EAPMD5 {
 	@Size(max = 256)
 	public String sharedSecret;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public EAPMD5() {
 	}
 
@@ -75,6 +81,7 @@ public class EAPMD5 {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -86,6 +93,7 @@ public class EAPMD5 {
 	 */
 	public EAPMD5 withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -107,6 +115,7 @@ public class EAPMD5 {
 	 */
 	public void  setSharedSecret(String sharedSecret) {
 		this.sharedSecret = sharedSecret;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -118,6 +127,7 @@ public class EAPMD5 {
 	 */
 	public EAPMD5 withSharedSecret(String sharedSecret) {
 		this.sharedSecret = sharedSecret;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
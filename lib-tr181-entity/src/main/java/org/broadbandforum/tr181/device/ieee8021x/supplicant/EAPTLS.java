@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * 802.1x Authentication Supplicant provisioning information used for TLS certificate authentication. This object will not exist if the EAP-TLS is not a supported authentication type.
@@ -51,6 +52,11 @@ public class EAPTLS {
 	@CWMPParameter(access = "readWrite")
 	public Boolean mutualAuthenticationEnable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public EAPTLS() {
 	}
 
@@ -73,6 +79,7 @@ public class EAPTLS {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +91,7 @@ public class EAPTLS {
 	 */
 	public EAPTLS withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -105,6 +113,7 @@ public class EAPTLS {
 	 */
 	public void  setMutualAuthenticationEnable(Boolean mutualAuthenticationEnable) {
 		this.mutualAuthenticationEnable = mutualAuthenticationEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -116,6 +125,7 @@ public class EAPTLS {
 	 */
 	public EAPTLS withMutualAuthenticationEnable(Boolean mutualAuthenticationEnable) {
 		this.mutualAuthenticationEnable = mutualAuthenticationEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -119,6 +120,11 @@ public class Stats {
 	@XmlElement(name = "LastFrameSourceMACAddress")
 	public MACAddress lastFrameSourceMACAddress;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -141,6 +147,7 @@ public class Stats {
 	 */
 	public void  setReceivedFrames(Long receivedFrames) {
 		this.receivedFrames = receivedFrames;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -152,6 +159,7 @@ public class Stats {
 	 */
 	public Stats withReceivedFrames(Long receivedFrames) {
 		this.receivedFrames = receivedFrames;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -173,6 +181,7 @@ public class Stats {
 	 */
 	public void  setTransmittedFrames(Long transmittedFrames) {
 		this.transmittedFrames = transmittedFrames;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -184,6 +193,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedFrames(Long transmittedFrames) {
 		this.transmittedFrames = transmittedFrames;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -205,6 +215,7 @@ public class Stats {
 	 */
 	public void  setTransmittedStartFrames(Long transmittedStartFrames) {
 		this.transmittedStartFrames = transmittedStartFrames;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -216,6 +227,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedStartFrames(Long transmittedStartFrames) {
 		this.transmittedStartFrames = transmittedStartFrames;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -237,6 +249,7 @@ public class Stats {
 	 */
 	public void  setTransmittedLogoffFrames(Long transmittedLogoffFrames) {
 		this.transmittedLogoffFrames = transmittedLogoffFrames;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -248,6 +261,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedLogoffFrames(Long transmittedLogoffFrames) {
 		this.transmittedLogoffFrames = transmittedLogoffFrames;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -269,6 +283,7 @@ public class Stats {
 	 */
 	public void  setTransmittedResponseIdFrames(Long transmittedResponseIdFrames) {
 		this.transmittedResponseIdFrames = transmittedResponseIdFrames;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -280,6 +295,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedResponseIdFrames(Long transmittedResponseIdFrames) {
 		this.transmittedResponseIdFrames = transmittedResponseIdFrames;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -301,6 +317,7 @@ public class Stats {
 	 */
 	public void  setTransmittedResponseFrames(Long transmittedResponseFrames) {
 		this.transmittedResponseFrames = transmittedResponseFrames;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -312,6 +329,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedResponseFrames(Long transmittedResponseFrames) {
 		this.transmittedResponseFrames = transmittedResponseFrames;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -333,6 +351,7 @@ public class Stats {
 	 */
 	public void  setReceivedRequestIdFrames(Long receivedRequestIdFrames) {
 		this.receivedRequestIdFrames = receivedRequestIdFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -344,6 +363,7 @@ public class Stats {
 	 */
 	public Stats withReceivedRequestIdFrames(Long receivedRequestIdFrames) {
 		this.receivedRequestIdFrames = receivedRequestIdFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -365,6 +385,7 @@ public class Stats {
 	 */
 	public void  setReceivedRequestFrames(Long receivedRequestFrames) {
 		this.receivedRequestFrames = receivedRequestFrames;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -376,6 +397,7 @@ public class Stats {
 	 */
 	public Stats withReceivedRequestFrames(Long receivedRequestFrames) {
 		this.receivedRequestFrames = receivedRequestFrames;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -397,6 +419,7 @@ public class Stats {
 	 */
 	public void  setReceivedInvalidFrames(Long receivedInvalidFrames) {
 		this.receivedInvalidFrames = receivedInvalidFrames;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -408,6 +431,7 @@ public class Stats {
 	 */
 	public Stats withReceivedInvalidFrames(Long receivedInvalidFrames) {
 		this.receivedInvalidFrames = receivedInvalidFrames;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -429,6 +453,7 @@ public class Stats {
 	 */
 	public void  setReceivedLengthErrorFrames(Long receivedLengthErrorFrames) {
 		this.receivedLengthErrorFrames = receivedLengthErrorFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -440,6 +465,7 @@ public class Stats {
 	 */
 	public Stats withReceivedLengthErrorFrames(Long receivedLengthErrorFrames) {
 		this.receivedLengthErrorFrames = receivedLengthErrorFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -461,6 +487,7 @@ public class Stats {
 	 */
 	public void  setLastFrameVersion(Long lastFrameVersion) {
 		this.lastFrameVersion = lastFrameVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -472,6 +499,7 @@ public class Stats {
 	 */
 	public Stats withLastFrameVersion(Long lastFrameVersion) {
 		this.lastFrameVersion = lastFrameVersion;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -493,6 +521,7 @@ public class Stats {
 	 */
 	public void  setLastFrameSourceMACAddress(MACAddress lastFrameSourceMACAddress) {
 		this.lastFrameSourceMACAddress = lastFrameSourceMACAddress;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -504,6 +533,7 @@ public class Stats {
 	 */
 	public Stats withLastFrameSourceMACAddress(MACAddress lastFrameSourceMACAddress) {
 		this.lastFrameSourceMACAddress = lastFrameSourceMACAddress;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
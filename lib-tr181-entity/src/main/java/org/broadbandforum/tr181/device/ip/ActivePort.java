@@ -23,7 +23,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table lists the ports on which TCP connections are listening or established.
@@ -78,6 +80,16 @@ public class ActivePort {
 	@XmlElement(name = "Status")
 	public String status;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ActivePort() {
 	}
 
@@ -100,6 +112,8 @@ public class ActivePort {
 	 */
 	public void  setLocalIPAddress(IPAddress localIPAddress) {
 		this.localIPAddress = localIPAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -111,6 +125,8 @@ public class ActivePort {
 	 */
 	public ActivePort withLocalIPAddress(IPAddress localIPAddress) {
 		this.localIPAddress = localIPAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -132,6 +148,8 @@ public class ActivePort {
 	 */
 	public void  setLocalPort(Long localPort) {
 		this.localPort = localPort;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -143,6 +161,8 @@ public class ActivePort {
 	 */
 	public ActivePort withLocalPort(Long localPort) {
 		this.localPort = localPort;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -168,6 +188,8 @@ public class ActivePort {
 	 */
 	public void  setRemoteIPAddress(IPAddress remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -181,6 +203,8 @@ public class ActivePort {
 	 */
 	public ActivePort withRemoteIPAddress(IPAddress remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -206,6 +230,8 @@ public class ActivePort {
 	 */
 	public void  setRemotePort(Long remotePort) {
 		this.remotePort = remotePort;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -219,6 +245,8 @@ public class ActivePort {
 	 */
 	public ActivePort withRemotePort(Long remotePort) {
 		this.remotePort = remotePort;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -240,6 +268,7 @@ public class ActivePort {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -251,6 +280,7 @@ public class ActivePort {
 	 */
 	public ActivePort withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
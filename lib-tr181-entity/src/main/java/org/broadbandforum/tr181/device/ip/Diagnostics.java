@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.ip.diagnostics.DownloadDiagnostics;
 import org.broadbandforum.tr181.device.ip.diagnostics.IPPing;
 import org.broadbandforum.tr181.device.ip.diagnostics.ServerSelectionDiagnostics;
@@ -164,6 +165,11 @@ public class Diagnostics {
 	@XmlElement(name = "ServerSelectionDiagnostics")
 	public ServerSelectionDiagnostics serverSelectionDiagnostics;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Diagnostics() {
 	}
 
@@ -186,6 +192,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv4PingSupported(Boolean ipv4PingSupported) {
 		this.ipv4PingSupported = ipv4PingSupported;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -197,6 +204,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv4PingSupported(Boolean ipv4PingSupported) {
 		this.ipv4PingSupported = ipv4PingSupported;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -218,6 +226,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv6PingSupported(Boolean ipv6PingSupported) {
 		this.ipv6PingSupported = ipv6PingSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -229,6 +238,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv6PingSupported(Boolean ipv6PingSupported) {
 		this.ipv6PingSupported = ipv6PingSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -250,6 +260,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv4TraceRouteSupported(Boolean ipv4TraceRouteSupported) {
 		this.ipv4TraceRouteSupported = ipv4TraceRouteSupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -261,6 +272,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv4TraceRouteSupported(Boolean ipv4TraceRouteSupported) {
 		this.ipv4TraceRouteSupported = ipv4TraceRouteSupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -282,6 +294,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv6TraceRouteSupported(Boolean ipv6TraceRouteSupported) {
 		this.ipv6TraceRouteSupported = ipv6TraceRouteSupported;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -293,6 +306,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv6TraceRouteSupported(Boolean ipv6TraceRouteSupported) {
 		this.ipv6TraceRouteSupported = ipv6TraceRouteSupported;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -314,6 +328,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv4DownloadDiagnosticsSupported(Boolean ipv4DownloadDiagnosticsSupported) {
 		this.ipv4DownloadDiagnosticsSupported = ipv4DownloadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -325,6 +340,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv4DownloadDiagnosticsSupported(Boolean ipv4DownloadDiagnosticsSupported) {
 		this.ipv4DownloadDiagnosticsSupported = ipv4DownloadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -346,6 +362,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv6DownloadDiagnosticsSupported(Boolean ipv6DownloadDiagnosticsSupported) {
 		this.ipv6DownloadDiagnosticsSupported = ipv6DownloadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -357,6 +374,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv6DownloadDiagnosticsSupported(Boolean ipv6DownloadDiagnosticsSupported) {
 		this.ipv6DownloadDiagnosticsSupported = ipv6DownloadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -378,6 +396,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv4UploadDiagnosticsSupported(Boolean ipv4UploadDiagnosticsSupported) {
 		this.ipv4UploadDiagnosticsSupported = ipv4UploadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -389,6 +408,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv4UploadDiagnosticsSupported(Boolean ipv4UploadDiagnosticsSupported) {
 		this.ipv4UploadDiagnosticsSupported = ipv4UploadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -410,6 +430,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv6UploadDiagnosticsSupported(Boolean ipv6UploadDiagnosticsSupported) {
 		this.ipv6UploadDiagnosticsSupported = ipv6UploadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -421,6 +442,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv6UploadDiagnosticsSupported(Boolean ipv6UploadDiagnosticsSupported) {
 		this.ipv6UploadDiagnosticsSupported = ipv6UploadDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -442,6 +464,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv4UDPEchoDiagnosticsSupported(Boolean ipv4UDPEchoDiagnosticsSupported) {
 		this.ipv4UDPEchoDiagnosticsSupported = ipv4UDPEchoDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -453,6 +476,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv4UDPEchoDiagnosticsSupported(Boolean ipv4UDPEchoDiagnosticsSupported) {
 		this.ipv4UDPEchoDiagnosticsSupported = ipv4UDPEchoDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -474,6 +498,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv6UDPEchoDiagnosticsSupported(Boolean ipv6UDPEchoDiagnosticsSupported) {
 		this.ipv6UDPEchoDiagnosticsSupported = ipv6UDPEchoDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -485,6 +510,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv6UDPEchoDiagnosticsSupported(Boolean ipv6UDPEchoDiagnosticsSupported) {
 		this.ipv6UDPEchoDiagnosticsSupported = ipv6UDPEchoDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -506,6 +532,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv4ServerSelectionDiagnosticsSupported(Boolean ipv4ServerSelectionDiagnosticsSupported) {
 		this.ipv4ServerSelectionDiagnosticsSupported = ipv4ServerSelectionDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -517,6 +544,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv4ServerSelectionDiagnosticsSupported(Boolean ipv4ServerSelectionDiagnosticsSupported) {
 		this.ipv4ServerSelectionDiagnosticsSupported = ipv4ServerSelectionDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -538,6 +566,7 @@ public class Diagnostics {
 	 */
 	public void  setIpv6ServerSelectionDiagnosticsSupported(Boolean ipv6ServerSelectionDiagnosticsSupported) {
 		this.ipv6ServerSelectionDiagnosticsSupported = ipv6ServerSelectionDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -549,6 +578,7 @@ public class Diagnostics {
 	 */
 	public Diagnostics withIpv6ServerSelectionDiagnosticsSupported(Boolean ipv6ServerSelectionDiagnosticsSupported) {
 		this.ipv6ServerSelectionDiagnosticsSupported = ipv6ServerSelectionDiagnosticsSupported;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
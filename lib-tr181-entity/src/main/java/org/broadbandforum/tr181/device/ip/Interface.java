@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ip;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ip._interface.IPv4Address;
 import org.broadbandforum.tr181.device.ip._interface.IPv6Address;
 import org.broadbandforum.tr181.device.ip._interface.IPv6Prefix;
@@ -275,6 +278,16 @@ public class Interface {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -301,6 +314,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -314,6 +328,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -347,6 +362,7 @@ public class Interface {
 	 */
 	public void  setIpv4Enable(Boolean ipv4Enable) {
 		this.ipv4Enable = ipv4Enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -364,6 +380,7 @@ public class Interface {
 	 */
 	public Interface withIpv4Enable(Boolean ipv4Enable) {
 		this.ipv4Enable = ipv4Enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -397,6 +414,7 @@ public class Interface {
 	 */
 	public void  setIpv6Enable(Boolean ipv6Enable) {
 		this.ipv6Enable = ipv6Enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -414,6 +432,7 @@ public class Interface {
 	 */
 	public Interface withIpv6Enable(Boolean ipv6Enable) {
 		this.ipv6Enable = ipv6Enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -435,6 +454,7 @@ public class Interface {
 	 */
 	public void  setUlaEnable(Boolean ulaEnable) {
 		this.ulaEnable = ulaEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -446,6 +466,7 @@ public class Interface {
 	 */
 	public Interface withUlaEnable(Boolean ulaEnable) {
 		this.ulaEnable = ulaEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -479,6 +500,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -496,6 +518,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -517,6 +540,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -528,6 +553,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -549,6 +576,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -560,6 +589,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -581,6 +612,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -592,6 +624,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -608,6 +641,19 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          {{param}} MUST be {{empty}} and read-only when {{param|Type}} is {{enum|Loopback|Type}}, {{enum|Tunnel|Type}}, or {{enum|Tunneled|Type}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -618,6 +664,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -631,6 +678,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -652,6 +700,7 @@ public class Interface {
 	 */
 	public void  setRouter(String router) {
 		this.router = router;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -663,6 +712,7 @@ public class Interface {
 	 */
 	public Interface withRouter(String router) {
 		this.router = router;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -692,6 +742,7 @@ public class Interface {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -707,6 +758,7 @@ public class Interface {
 	 */
 	public Interface withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -728,6 +780,7 @@ public class Interface {
 	 */
 	public void  setMaxMTUSize(Long maxMTUSize) {
 		this.maxMTUSize = maxMTUSize;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -739,6 +792,7 @@ public class Interface {
 	 */
 	public Interface withMaxMTUSize(Long maxMTUSize) {
 		this.maxMTUSize = maxMTUSize;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -764,6 +818,7 @@ public class Interface {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -777,6 +832,7 @@ public class Interface {
 	 */
 	public Interface withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -802,6 +858,7 @@ public class Interface {
 	 */
 	public void  setLoopback(Boolean loopback) {
 		this.loopback = loopback;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -815,6 +872,7 @@ public class Interface {
 	 */
 	public Interface withLoopback(Boolean loopback) {
 		this.loopback = loopback;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -840,6 +898,7 @@ public class Interface {
 	 */
 	public void  setAutoIPEnable(Boolean autoIPEnable) {
 		this.autoIPEnable = autoIPEnable;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -853,6 +912,7 @@ public class Interface {
 	 */
 	public Interface withAutoIPEnable(Boolean autoIPEnable) {
 		this.autoIPEnable = autoIPEnable;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -862,10 +922,20 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<IPv4Address> getIpv4Addresss() {
-		if (this.ipv4Addresss == null){ this.ipv4Addresss=new ArrayList<>();}
+		if (!(this.ipv4Addresss instanceof InstanceTable)){ this.ipv4Addresss=InstanceTable.of(this.ipv4Addresss);}
 		return ipv4Addresss;
 	}
 
+	/**
+	 * Read the ipv4 address table. Entries are auto-created and auto-deleted as IP addresses are added and deleted via DHCP, auto-IP, or IPCP. Static entries are created and configured by the ACS.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv4Address> viewIpv4Addresss() {
+		return ipv4Addresss == null ? Collections.emptyList() : ipv4Addresss;
+	}
+
 	/**
 	 * Set the ipv4 address table. Entries are auto-created and auto-deleted as IP addresses are added and deleted via DHCP, auto-IP, or IPCP. Static entries are created and configured by the ACS.
 	 *
@@ -910,10 +980,38 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<IPv6Address> getIpv6Addresss() {
-		if (this.ipv6Addresss == null){ this.ipv6Addresss=new ArrayList<>();}
+		if (!(this.ipv6Addresss instanceof InstanceTable)){ this.ipv6Addresss=InstanceTable.of(this.ipv6Addresss);}
 		return ipv6Addresss;
 	}
 
+	/**
+	 * Read the this table contains the IP interface's IPv6 unicast addresses.  There MUST be an entry for each such address, including anycast addresses.
+
+        There are several ways in which entries can be added to and deleted from this table, including:
+
+        * Automatically via SLAAC {{bibref|RFC4862}}, which covers generation of link-local addresses (for all types of device) and global addresses (for non-router devices).
+
+        * Automatically via DHCPv6 {{bibref|RFC3315}}, which covers generation of any type of address (subject to the configured DHCP server policy).
+
+        * Manually via a GUI or some other local management interface.
+
+        * Manually via factory default configuration.
+
+        * By the ACS.
+
+        This table MUST NOT include entries for the Subnet-Router anycast address {{bibref|RFC4291|Section 2.6.1}}.  Such entries would be identical to others but with a zero interface identifier, and would add no value.
+
+        A loopback interface will always have address ''::1'' {{bibref|RFC4291|Section 2.5.3}} and MAY also have link-local address ''fe80::1''.
+
+        This object is based on ''ipAddressTable'' from {{bibref|RFC4293}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv6Address> viewIpv6Addresss() {
+		return ipv6Addresss == null ? Collections.emptyList() : ipv6Addresss;
+	}
+
 	/**
 	 * Set the this table contains the IP interface's IPv6 unicast addresses.  There MUST be an entry for each such address, including anycast addresses.
 
@@ -994,10 +1092,38 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<IPv6Prefix> getIpv6Prefixs() {
-		if (this.ipv6Prefixs == null){ this.ipv6Prefixs=new ArrayList<>();}
+		if (!(this.ipv6Prefixs instanceof InstanceTable)){ this.ipv6Prefixs=InstanceTable.of(this.ipv6Prefixs);}
 		return ipv6Prefixs;
 	}
 
+	/**
+	 * Read the this table contains the interface's IPv6 prefixes.  There MUST be an entry for each such prefix, not only for prefixes learned from router advertisements.
+
+        There are several ways in which entries can be added to and deleted from this table, including:
+
+        * Automatically via {{bibref|RFC4861}} Router Advertisements.  See also {{object|.RouterAdvertisement}}.
+
+        * Automatically via DHCPv6 {{bibref|RFC3315}} prefix delegation {{bibref|RFC3633}}.  See also {{object|.DHCPv6.Client}}.
+
+        * Automatically via internal CPE logic, e.g. creation of child prefixes derived from a parent prefix.
+
+        * Manually via a GUI or some other local management interface.
+
+        * Manually via factory default configuration.
+
+        * By the ACS.
+
+        The CPE MAY choose not to create {{object}} entries for {{enum|WellKnown|Origin}} prefixes or for the ULA /48 prefix {{bibref|RFC4193}}. If an {{object}} entry exists for the ULA /48 prefix, it MUST be on a downstream interface (i.e. an interface for which the physical layer interface object has ''Upstream'' = {{false}}).
+
+        This object is based on ''ipAddressPrefixTable'' from {{bibref|RFC4293}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv6Prefix> viewIpv6Prefixs() {
+		return ipv6Prefixs == null ? Collections.emptyList() : ipv6Prefixs;
+	}
+
 	/**
 	 * Set the this table contains the interface's IPv6 prefixes.  There MUST be an entry for each such prefix, not only for prefixes learned from router advertisements.
 
@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * IPv4 address table. Entries are auto-created and auto-deleted as IP addresses are added and deleted via DHCP, auto-IP, or IPCP. Static entries are created and configured by the ACS.
@@ -94,6 +96,16 @@ public class IPv4Address {
 	@XmlElement(name = "AddressingType")
 	public String addressingType;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPv4Address() {
 	}
 
@@ -116,6 +128,7 @@ public class IPv4Address {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -127,6 +140,7 @@ public class IPv4Address {
 	 */
 	public IPv4Address withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +170,7 @@ public class IPv4Address {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -171,6 +186,7 @@ public class IPv4Address {
 	 */
 	public IPv4Address withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -196,6 +212,8 @@ public class IPv4Address {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -209,6 +227,8 @@ public class IPv4Address {
 	 */
 	public IPv4Address withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -234,6 +254,8 @@ public class IPv4Address {
 	 */
 	public void  setIpaddress(org.broadbandforum.common.IPv4Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -247,6 +269,8 @@ public class IPv4Address {
 	 */
 	public IPv4Address withIpaddress(org.broadbandforum.common.IPv4Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -272,6 +296,8 @@ public class IPv4Address {
 	 */
 	public void  setSubnetMask(org.broadbandforum.common.IPv4Address subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -285,6 +311,8 @@ public class IPv4Address {
 	 */
 	public IPv4Address withSubnetMask(org.broadbandforum.common.IPv4Address subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -306,6 +334,7 @@ public class IPv4Address {
 	 */
 	public void  setAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -317,6 +346,7 @@ public class IPv4Address {
 	 */
 	public IPv4Address withAddressingType(String addressingType) {
 		this.addressingType = addressingType;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
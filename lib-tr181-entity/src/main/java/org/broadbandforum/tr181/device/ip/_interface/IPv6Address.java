@@ -21,10 +21,15 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This table contains the IP interface's IPv6 unicast addresses.  There MUST be an entry for each such address, including anycast addresses.
@@ -137,8 +142,9 @@ public class IPv6Address {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "PreferredLifetime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime preferredLifetime = LocalDateTime.parse("9999-12-31T23:59:59Z");;
+	public LocalDateTime preferredLifetime = CWMPDateTime.INFINITE_TIME;
 	/**
 	 * The time at which this address will cease to be valid (i.e. will become invalid), or {{null}} if unknown. For an infinite lifetime, the parameter value MUST be 9999-12-31T23:59:59Z.
 
@@ -147,8 +153,9 @@ public class IPv6Address {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "ValidLifetime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime validLifetime = LocalDateTime.parse("9999-12-31T23:59:59Z");;
+	public LocalDateTime validLifetime = CWMPDateTime.INFINITE_TIME;
 	/**
 	 * Indicates whether this is an anycast address {{bibref|RFC4291|Section 2.6}}.  Anycast addresses are syntactically identical to unicast addresses and so need to be configured explicitly.
 
@@ -162,6 +169,16 @@ public class IPv6Address {
 	@CWMPParameter(access = "readWrite")
 	public Boolean anycast;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPv6Address() {
 	}
 
@@ -184,6 +201,7 @@ public class IPv6Address {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -195,6 +213,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -224,6 +243,7 @@ public class IPv6Address {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -239,6 +259,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -264,6 +285,7 @@ public class IPv6Address {
 	 */
 	public void  setIpaddressStatus(String ipaddressStatus) {
 		this.ipaddressStatus = ipaddressStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -277,6 +299,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withIpaddressStatus(String ipaddressStatus) {
 		this.ipaddressStatus = ipaddressStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -302,6 +325,8 @@ public class IPv6Address {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -315,6 +340,8 @@ public class IPv6Address {
 	 */
 	public IPv6Address withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -344,6 +371,8 @@ public class IPv6Address {
 	 */
 	public void  setIpaddress(org.broadbandforum.common.IPv6Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -359,6 +388,8 @@ public class IPv6Address {
 	 */
 	public IPv6Address withIpaddress(org.broadbandforum.common.IPv6Address ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -384,6 +415,7 @@ public class IPv6Address {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -397,6 +429,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -430,6 +463,7 @@ public class IPv6Address {
 	 */
 	public void  setPrefix(String prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -447,6 +481,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withPrefix(String prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -472,6 +507,7 @@ public class IPv6Address {
 	 */
 	public void  setPreferredLifetime(LocalDateTime preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -485,6 +521,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withPreferredLifetime(LocalDateTime preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -510,6 +547,7 @@ public class IPv6Address {
 	 */
 	public void  setValidLifetime(LocalDateTime validLifetime) {
 		this.validLifetime = validLifetime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -523,6 +561,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withValidLifetime(LocalDateTime validLifetime) {
 		this.validLifetime = validLifetime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -552,6 +591,7 @@ public class IPv6Address {
 	 */
 	public void  setAnycast(Boolean anycast) {
 		this.anycast = anycast;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -567,6 +607,7 @@ public class IPv6Address {
 	 */
 	public IPv6Address withAnycast(Boolean anycast) {
 		this.anycast = anycast;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
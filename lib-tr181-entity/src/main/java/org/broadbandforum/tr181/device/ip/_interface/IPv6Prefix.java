@@ -21,10 +21,15 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This table contains the interface's IPv6 prefixes.  There MUST be an entry for each such prefix, not only for prefixes learned from router advertisements.
@@ -197,8 +202,9 @@ public class IPv6Prefix {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "PreferredLifetime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime preferredLifetime = LocalDateTime.parse("9999-12-31T23:59:59Z");;
+	public LocalDateTime preferredLifetime = CWMPDateTime.INFINITE_TIME;
 	/**
 	 * This parameter is based on ''ipAddressPrefixAdvValidLifetime'' from {{bibref|RFC4293}}.  The time at which this prefix will cease to be valid (i.e. will become invalid), or {{null}} if not known. For an infinite lifetime, the parameter value MUST be 9999-12-31T23:59:59Z.
 
@@ -207,8 +213,19 @@ public class IPv6Prefix {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "ValidLifetime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime validLifetime = LocalDateTime.parse("9999-12-31T23:59:59Z");;
+	public LocalDateTime validLifetime = CWMPDateTime.INFINITE_TIME;
+
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
 
 	public IPv6Prefix() {
 	}
@@ -232,6 +249,7 @@ public class IPv6Prefix {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -243,6 +261,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -268,6 +287,7 @@ public class IPv6Prefix {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -281,6 +301,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -306,6 +327,7 @@ public class IPv6Prefix {
 	 */
 	public void  setPrefixStatus(String prefixStatus) {
 		this.prefixStatus = prefixStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -319,6 +341,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withPrefixStatus(String prefixStatus) {
 		this.prefixStatus = prefixStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -344,6 +367,8 @@ public class IPv6Prefix {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -357,6 +382,8 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -386,6 +413,8 @@ public class IPv6Prefix {
 	 */
 	public void  setPrefix(org.broadbandforum.common.IPv6Prefix prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -401,6 +430,8 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withPrefix(org.broadbandforum.common.IPv6Prefix prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -446,6 +477,7 @@ public class IPv6Prefix {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -469,6 +501,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -514,6 +547,7 @@ public class IPv6Prefix {
 	 */
 	public void  setStaticType(String staticType) {
 		this.staticType = staticType;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -537,6 +571,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withStaticType(String staticType) {
 		this.staticType = staticType;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -562,6 +597,7 @@ public class IPv6Prefix {
 	 */
 	public void  setParentPrefix(String parentPrefix) {
 		this.parentPrefix = parentPrefix;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -575,6 +611,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withParentPrefix(String parentPrefix) {
 		this.parentPrefix = parentPrefix;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -604,6 +641,7 @@ public class IPv6Prefix {
 	 */
 	public void  setChildPrefixBits(org.broadbandforum.common.IPv6Prefix childPrefixBits) {
 		this.childPrefixBits = childPrefixBits;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -619,6 +657,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withChildPrefixBits(org.broadbandforum.common.IPv6Prefix childPrefixBits) {
 		this.childPrefixBits = childPrefixBits;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -648,6 +687,7 @@ public class IPv6Prefix {
 	 */
 	public void  setOnlink(Boolean onlink) {
 		this.onlink = onlink;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -663,6 +703,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withOnlink(Boolean onlink) {
 		this.onlink = onlink;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -692,6 +733,7 @@ public class IPv6Prefix {
 	 */
 	public void  setAutonomous(Boolean autonomous) {
 		this.autonomous = autonomous;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -707,6 +749,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withAutonomous(Boolean autonomous) {
 		this.autonomous = autonomous;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -732,6 +775,7 @@ public class IPv6Prefix {
 	 */
 	public void  setPreferredLifetime(LocalDateTime preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -745,6 +789,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withPreferredLifetime(LocalDateTime preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -770,6 +815,7 @@ public class IPv6Prefix {
 	 */
 	public void  setValidLifetime(LocalDateTime validLifetime) {
 		this.validLifetime = validLifetime;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -783,6 +829,7 @@ public class IPv6Prefix {
 	 */
 	public IPv6Prefix withValidLifetime(LocalDateTime validLifetime) {
 		this.validLifetime = validLifetime;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.ip.diagnostics;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,9 +27,13 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.ip.diagnostics.downloaddiagnostics.IncrementalResult;
 import org.broadbandforum.tr181.device.ip.diagnostics.downloaddiagnostics.PerConnectionResult;
 
@@ -215,6 +220,7 @@ public class DownloadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ROMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime romTime;
 	/**
@@ -231,6 +237,7 @@ public class DownloadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "BOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime bomTime;
 	/**
@@ -247,6 +254,7 @@ public class DownloadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "EOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime eomTime;
 	/**
@@ -314,6 +322,7 @@ public class DownloadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "TCPOpenRequestTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenRequestTime;
 	/**
@@ -332,6 +341,7 @@ public class DownloadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "TCPOpenResponseTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenResponseTime;
 	/**
@@ -355,6 +365,11 @@ public class DownloadDiagnostics {
 	@XmlElement(name = "IncrementalResult")
 	public Collection<IncrementalResult> incrementalResults;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DownloadDiagnostics() {
 	}
 
@@ -413,6 +428,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -442,6 +458,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -467,6 +484,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -480,6 +498,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -517,6 +536,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setDownloadURL(String downloadURL) {
 		this.downloadURL = downloadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -536,6 +556,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withDownloadURL(String downloadURL) {
 		this.downloadURL = downloadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -550,6 +571,17 @@ public class DownloadDiagnostics {
 		return downloadTransports;
 	}
 
+	/**
+	 * Read the supported ''DownloadDiagnostics'' transport protocols for a CPE device.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDownloadTransports() {
+		return downloadTransports == null ? Collections.emptyList() : downloadTransports;
+	}
+
 	/**
 	 * Set the supported ''DownloadDiagnostics'' transport protocols for a CPE device.
 	 *
@@ -558,6 +590,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setDownloadTransports(Collection<String> downloadTransports) {
 		this.downloadTransports = downloadTransports;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -569,6 +602,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withDownloadTransports(String string) {
 		getDownloadTransports().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -590,6 +624,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setDownloadDiagnosticMaxConnections(Long downloadDiagnosticMaxConnections) {
 		this.downloadDiagnosticMaxConnections = downloadDiagnosticMaxConnections;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -601,6 +636,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withDownloadDiagnosticMaxConnections(Long downloadDiagnosticMaxConnections) {
 		this.downloadDiagnosticMaxConnections = downloadDiagnosticMaxConnections;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -622,6 +658,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setDownloadDiagnosticsMaxIncrementalResult(Long downloadDiagnosticsMaxIncrementalResult) {
 		this.downloadDiagnosticsMaxIncrementalResult = downloadDiagnosticsMaxIncrementalResult;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -633,6 +670,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withDownloadDiagnosticsMaxIncrementalResult(Long downloadDiagnosticsMaxIncrementalResult) {
 		this.downloadDiagnosticsMaxIncrementalResult = downloadDiagnosticsMaxIncrementalResult;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -658,6 +696,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -671,6 +710,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -696,6 +736,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -709,6 +750,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -730,6 +772,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTimeBasedTestDuration(Long timeBasedTestDuration) {
 		this.timeBasedTestDuration = timeBasedTestDuration;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -741,6 +784,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTimeBasedTestDuration(Long timeBasedTestDuration) {
 		this.timeBasedTestDuration = timeBasedTestDuration;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -766,6 +810,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTimeBasedTestMeasurementInterval(Long timeBasedTestMeasurementInterval) {
 		this.timeBasedTestMeasurementInterval = timeBasedTestMeasurementInterval;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -779,6 +824,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTimeBasedTestMeasurementInterval(Long timeBasedTestMeasurementInterval) {
 		this.timeBasedTestMeasurementInterval = timeBasedTestMeasurementInterval;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -804,6 +850,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTimeBasedTestMeasurementOffset(Long timeBasedTestMeasurementOffset) {
 		this.timeBasedTestMeasurementOffset = timeBasedTestMeasurementOffset;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -817,6 +864,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTimeBasedTestMeasurementOffset(Long timeBasedTestMeasurementOffset) {
 		this.timeBasedTestMeasurementOffset = timeBasedTestMeasurementOffset;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -838,6 +886,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -849,6 +898,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -870,6 +920,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setNumberOfConnections(Long numberOfConnections) {
 		this.numberOfConnections = numberOfConnections;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -881,6 +932,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withNumberOfConnections(Long numberOfConnections) {
 		this.numberOfConnections = numberOfConnections;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -902,6 +954,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -913,6 +966,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -950,6 +1004,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -969,6 +1024,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1006,6 +1062,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1025,6 +1082,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1062,6 +1120,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1081,6 +1140,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1102,6 +1162,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTestBytesReceived(Long testBytesReceived) {
 		this.testBytesReceived = testBytesReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1113,6 +1174,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTestBytesReceived(Long testBytesReceived) {
 		this.testBytesReceived = testBytesReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1134,6 +1196,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1145,6 +1208,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1166,6 +1230,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1177,6 +1242,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1198,6 +1264,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTestBytesReceivedUnderFullLoading(Long testBytesReceivedUnderFullLoading) {
 		this.testBytesReceivedUnderFullLoading = testBytesReceivedUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1209,6 +1276,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTestBytesReceivedUnderFullLoading(Long testBytesReceivedUnderFullLoading) {
 		this.testBytesReceivedUnderFullLoading = testBytesReceivedUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1230,6 +1298,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTotalBytesReceivedUnderFullLoading(Long totalBytesReceivedUnderFullLoading) {
 		this.totalBytesReceivedUnderFullLoading = totalBytesReceivedUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1241,6 +1310,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTotalBytesReceivedUnderFullLoading(Long totalBytesReceivedUnderFullLoading) {
 		this.totalBytesReceivedUnderFullLoading = totalBytesReceivedUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1262,6 +1332,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTotalBytesSentUnderFullLoading(Long totalBytesSentUnderFullLoading) {
 		this.totalBytesSentUnderFullLoading = totalBytesSentUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1273,6 +1344,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTotalBytesSentUnderFullLoading(Long totalBytesSentUnderFullLoading) {
 		this.totalBytesSentUnderFullLoading = totalBytesSentUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1294,6 +1366,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setPeriodOfFullLoading(Long periodOfFullLoading) {
 		this.periodOfFullLoading = periodOfFullLoading;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1305,6 +1378,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withPeriodOfFullLoading(Long periodOfFullLoading) {
 		this.periodOfFullLoading = periodOfFullLoading;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1346,6 +1420,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1367,6 +1442,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1408,6 +1484,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1429,6 +1506,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1450,6 +1528,7 @@ public class DownloadDiagnostics {
 	 */
 	public void  setEnablePerConnectionResults(Boolean enablePerConnectionResults) {
 		this.enablePerConnectionResults = enablePerConnectionResults;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1461,6 +1540,7 @@ public class DownloadDiagnostics {
 	 */
 	public DownloadDiagnostics withEnablePerConnectionResults(Boolean enablePerConnectionResults) {
 		this.enablePerConnectionResults = enablePerConnectionResults;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1470,10 +1550,20 @@ public class DownloadDiagnostics {
 	 * @return the value
 	 */
 	public Collection<PerConnectionResult> getPerConnectionResults() {
-		if (this.perConnectionResults == null){ this.perConnectionResults=new ArrayList<>();}
+		if (!(this.perConnectionResults instanceof InstanceTable)){ this.perConnectionResults=InstanceTable.of(this.perConnectionResults);}
 		return perConnectionResults;
 	}
 
+	/**
+	 * Read the results for individual connections.  This table is only populated when {{param|#.EnablePerConnectionResults}} is {{true}}.  A new object is created for each connection specified in {{param|#.NumberOfConnections}}.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PerConnectionResult> viewPerConnectionResults() {
+		return perConnectionResults == null ? Collections.emptyList() : perConnectionResults;
+	}
+
 	/**
 	 * Set the results for individual connections.  This table is only populated when {{param|#.EnablePerConnectionResults}} is {{true}}.  A new object is created for each connection specified in {{param|#.NumberOfConnections}}.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
 	 *
@@ -1500,10 +1590,20 @@ public class DownloadDiagnostics {
 	 * @return the value
 	 */
 	public Collection<IncrementalResult> getIncrementalResults() {
-		if (this.incrementalResults == null){ this.incrementalResults=new ArrayList<>();}
+		if (!(this.incrementalResults instanceof InstanceTable)){ this.incrementalResults=InstanceTable.of(this.incrementalResults);}
 		return incrementalResults;
 	}
 
+	/**
+	 * Read the results for time segmented tests (tests where {{param|#.TimeBasedTestDuration}} > 0 and {{param|#.TimeBasedTestMeasurementInterval}} > 0).  This data is totaled across all connections in the test.  A new object is created every {{param|#.TimeBasedTestMeasurementInterval}} after that interval has completed.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IncrementalResult> viewIncrementalResults() {
+		return incrementalResults == null ? Collections.emptyList() : incrementalResults;
+	}
+
 	/**
 	 * Set the results for time segmented tests (tests where {{param|#.TimeBasedTestDuration}} > 0 and {{param|#.TimeBasedTestMeasurementInterval}} > 0).  This data is totaled across all connections in the test.  A new object is created every {{param|#.TimeBasedTestMeasurementInterval}} after that interval has completed.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
 	 *
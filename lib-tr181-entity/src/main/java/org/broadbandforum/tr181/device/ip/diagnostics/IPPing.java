@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -183,6 +184,11 @@ public class IPPing {
 	@CWMPParameter(activeNotify = "canDeny", units = "microseconds")
 	public Long maximumResponseTimeDetailed;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPPing() {
 	}
 
@@ -205,6 +211,7 @@ public class IPPing {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -216,6 +223,7 @@ public class IPPing {
 	 */
 	public IPPing withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -241,6 +249,7 @@ public class IPPing {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -254,6 +263,7 @@ public class IPPing {
 	 */
 	public IPPing with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -275,6 +285,7 @@ public class IPPing {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -286,6 +297,7 @@ public class IPPing {
 	 */
 	public IPPing withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -311,6 +323,7 @@ public class IPPing {
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -324,6 +337,7 @@ public class IPPing {
 	 */
 	public IPPing withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -345,6 +359,7 @@ public class IPPing {
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -356,6 +371,7 @@ public class IPPing {
 	 */
 	public IPPing withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -377,6 +393,7 @@ public class IPPing {
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -388,6 +405,7 @@ public class IPPing {
 	 */
 	public IPPing withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -409,6 +427,7 @@ public class IPPing {
 	 */
 	public void  setDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -420,6 +439,7 @@ public class IPPing {
 	 */
 	public IPPing withDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -441,6 +461,7 @@ public class IPPing {
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -452,6 +473,7 @@ public class IPPing {
 	 */
 	public IPPing withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -473,6 +495,7 @@ public class IPPing {
 	 */
 	public void  setIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -484,6 +507,7 @@ public class IPPing {
 	 */
 	public IPPing withIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -505,6 +529,7 @@ public class IPPing {
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -516,6 +541,7 @@ public class IPPing {
 	 */
 	public IPPing withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -537,6 +563,7 @@ public class IPPing {
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -548,6 +575,7 @@ public class IPPing {
 	 */
 	public IPPing withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -569,6 +597,7 @@ public class IPPing {
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -580,6 +609,7 @@ public class IPPing {
 	 */
 	public IPPing withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -601,6 +631,7 @@ public class IPPing {
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -612,6 +643,7 @@ public class IPPing {
 	 */
 	public IPPing withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -633,6 +665,7 @@ public class IPPing {
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -644,6 +677,7 @@ public class IPPing {
 	 */
 	public IPPing withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -665,6 +699,7 @@ public class IPPing {
 	 */
 	public void  setAverageResponseTimeDetailed(Long averageResponseTimeDetailed) {
 		this.averageResponseTimeDetailed = averageResponseTimeDetailed;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -676,6 +711,7 @@ public class IPPing {
 	 */
 	public IPPing withAverageResponseTimeDetailed(Long averageResponseTimeDetailed) {
 		this.averageResponseTimeDetailed = averageResponseTimeDetailed;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -697,6 +733,7 @@ public class IPPing {
 	 */
 	public void  setMinimumResponseTimeDetailed(Long minimumResponseTimeDetailed) {
 		this.minimumResponseTimeDetailed = minimumResponseTimeDetailed;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -708,6 +745,7 @@ public class IPPing {
 	 */
 	public IPPing withMinimumResponseTimeDetailed(Long minimumResponseTimeDetailed) {
 		this.minimumResponseTimeDetailed = minimumResponseTimeDetailed;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -729,6 +767,7 @@ public class IPPing {
 	 */
 	public void  setMaximumResponseTimeDetailed(Long maximumResponseTimeDetailed) {
 		this.maximumResponseTimeDetailed = maximumResponseTimeDetailed;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -740,6 +779,7 @@ public class IPPing {
 	 */
 	public IPPing withMaximumResponseTimeDetailed(Long maximumResponseTimeDetailed) {
 		this.maximumResponseTimeDetailed = maximumResponseTimeDetailed;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ip.diagnostics;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -160,6 +162,11 @@ public class ServerSelectionDiagnostics {
 	@XmlElement(name = "IPAddressUsed")
 	public IPAddress ipaddressUsed;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ServerSelectionDiagnostics() {
 	}
 
@@ -218,6 +225,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -247,6 +255,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -272,6 +281,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -285,6 +295,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -306,6 +317,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -317,6 +329,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -338,6 +351,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -349,6 +363,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -363,6 +378,17 @@ public class ServerSelectionDiagnostics {
 		return hostList;
 	}
 
+	/**
+	 * Read the each entry is a Host name or address of a host to ping.
+	 *
+	 * @since 2.9
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHostList() {
+		return hostList == null ? Collections.emptyList() : hostList;
+	}
+
 	/**
 	 * Set the each entry is a Host name or address of a host to ping.
 	 *
@@ -371,6 +397,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setHostList(Collection<String> hostList) {
 		this.hostList = hostList;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -382,6 +409,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withHostList(String string) {
 		getHostList().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -403,6 +431,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -414,6 +443,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -435,6 +465,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -446,6 +477,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -467,6 +499,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setFastestHost(String fastestHost) {
 		this.fastestHost = fastestHost;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -478,6 +511,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withFastestHost(String fastestHost) {
 		this.fastestHost = fastestHost;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -499,6 +533,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -510,6 +545,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -531,6 +567,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -542,6 +579,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -563,6 +601,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -574,6 +613,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -595,6 +635,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public void  setIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -606,6 +647,7 @@ public class ServerSelectionDiagnostics {
 	 */
 	public ServerSelectionDiagnostics withIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
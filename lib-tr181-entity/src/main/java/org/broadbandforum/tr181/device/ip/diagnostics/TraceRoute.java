@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.ip.diagnostics;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,7 +27,9 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ip.diagnostics.traceroute.RouteHops;
 
 	/**
@@ -146,6 +148,11 @@ public class TraceRoute {
 	@XmlElement(name = "RouteHops")
 	public Collection<RouteHops> routeHopss;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TraceRoute() {
 	}
 
@@ -168,6 +175,7 @@ public class TraceRoute {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -179,6 +187,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -204,6 +213,7 @@ public class TraceRoute {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -217,6 +227,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -238,6 +249,7 @@ public class TraceRoute {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -249,6 +261,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -274,6 +287,7 @@ public class TraceRoute {
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -287,6 +301,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -308,6 +323,7 @@ public class TraceRoute {
 	 */
 	public void  setNumberOfTries(Long numberOfTries) {
 		this.numberOfTries = numberOfTries;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -319,6 +335,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withNumberOfTries(Long numberOfTries) {
 		this.numberOfTries = numberOfTries;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -340,6 +357,7 @@ public class TraceRoute {
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -351,6 +369,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -372,6 +391,7 @@ public class TraceRoute {
 	 */
 	public void  setDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -383,6 +403,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -404,6 +425,7 @@ public class TraceRoute {
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -415,6 +437,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -436,6 +459,7 @@ public class TraceRoute {
 	 */
 	public void  setMaxHopCount(Long maxHopCount) {
 		this.maxHopCount = maxHopCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -447,6 +471,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withMaxHopCount(Long maxHopCount) {
 		this.maxHopCount = maxHopCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -468,6 +493,7 @@ public class TraceRoute {
 	 */
 	public void  setIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -479,6 +505,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -500,6 +527,7 @@ public class TraceRoute {
 	 */
 	public void  setResponseTime(Long responseTime) {
 		this.responseTime = responseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -511,6 +539,7 @@ public class TraceRoute {
 	 */
 	public TraceRoute withResponseTime(Long responseTime) {
 		this.responseTime = responseTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -520,10 +549,20 @@ public class TraceRoute {
 	 * @return the value
 	 */
 	public Collection<RouteHops> getRouteHopss() {
-		if (this.routeHopss == null){ this.routeHopss=new ArrayList<>();}
+		if (!(this.routeHopss instanceof InstanceTable)){ this.routeHopss=InstanceTable.of(this.routeHopss);}
 		return routeHopss;
 	}
 
+	/**
+	 * Read the contains the array of hop results returned. If a route could not be determined, this array will be empty
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RouteHops> viewRouteHopss() {
+		return routeHopss == null ? Collections.emptyList() : routeHopss;
+	}
+
 	/**
 	 * Set the contains the array of hop results returned. If a route could not be determined, this array will be empty
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.ip.diagnostics;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,7 +26,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ip.diagnostics.udpechodiagnostics.IndividualPacketResult;
 
 	/**
@@ -212,6 +214,11 @@ public class UDPEchoDiagnostics {
 	@XmlElement(name = "IndividualPacketResult")
 	public Collection<IndividualPacketResult> individualPacketResults;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UDPEchoDiagnostics() {
 	}
 
@@ -266,6 +273,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -293,6 +301,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -318,6 +327,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -331,6 +341,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -352,6 +363,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -363,6 +375,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -384,6 +397,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -395,6 +409,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -416,6 +431,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -427,6 +443,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withNumberOfRepetitions(Long numberOfRepetitions) {
 		this.numberOfRepetitions = numberOfRepetitions;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -448,6 +465,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -459,6 +477,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withTimeout(Long timeout) {
 		this.timeout = timeout;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -480,6 +499,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -491,6 +511,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withDataBlockSize(Long dataBlockSize) {
 		this.dataBlockSize = dataBlockSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -512,6 +533,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -523,6 +545,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -544,6 +567,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setInterTransmissionTime(Long interTransmissionTime) {
 		this.interTransmissionTime = interTransmissionTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -555,6 +579,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withInterTransmissionTime(Long interTransmissionTime) {
 		this.interTransmissionTime = interTransmissionTime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -576,6 +601,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -587,6 +613,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -608,6 +635,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -619,6 +647,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -640,6 +669,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -651,6 +681,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withSuccessCount(Long successCount) {
 		this.successCount = successCount;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -672,6 +703,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -683,6 +715,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withFailureCount(Long failureCount) {
 		this.failureCount = failureCount;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -704,6 +737,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -715,6 +749,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withAverageResponseTime(Long averageResponseTime) {
 		this.averageResponseTime = averageResponseTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -736,6 +771,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -747,6 +783,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withMinimumResponseTime(Long minimumResponseTime) {
 		this.minimumResponseTime = minimumResponseTime;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -768,6 +805,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -779,6 +817,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withMaximumResponseTime(Long maximumResponseTime) {
 		this.maximumResponseTime = maximumResponseTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -800,6 +839,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setEnableIndividualPacketResults(Boolean enableIndividualPacketResults) {
 		this.enableIndividualPacketResults = enableIndividualPacketResults;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -811,6 +851,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withEnableIndividualPacketResults(Boolean enableIndividualPacketResults) {
 		this.enableIndividualPacketResults = enableIndividualPacketResults;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -832,6 +873,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public void  setUdpEchoDiagnosticsMaxResults(Long udpEchoDiagnosticsMaxResults) {
 		this.udpEchoDiagnosticsMaxResults = udpEchoDiagnosticsMaxResults;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -843,6 +885,7 @@ public class UDPEchoDiagnostics {
 	 */
 	public UDPEchoDiagnostics withUdpEchoDiagnosticsMaxResults(Long udpEchoDiagnosticsMaxResults) {
 		this.udpEchoDiagnosticsMaxResults = udpEchoDiagnosticsMaxResults;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -852,10 +895,20 @@ public class UDPEchoDiagnostics {
 	 * @return the value
 	 */
 	public Collection<IndividualPacketResult> getIndividualPacketResults() {
-		if (this.individualPacketResults == null){ this.individualPacketResults=new ArrayList<>();}
+		if (!(this.individualPacketResults instanceof InstanceTable)){ this.individualPacketResults=InstanceTable.of(this.individualPacketResults);}
 		return individualPacketResults;
 	}
 
+	/**
+	 * Read the this object provides the results from individual UDPEchoPlus test packets collected during a test if {{param|#.EnableIndividualPacketResults}} is set to true.  When {{param|#.DiagnosticsState}} is set to {{enum|Completed|#.DiagnosticsState}} it should contain {{param|#.NumberOfRepetitions}} objects.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  The instance number should match the TestIterationNumber field of the request and response packet.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IndividualPacketResult> viewIndividualPacketResults() {
+		return individualPacketResults == null ? Collections.emptyList() : individualPacketResults;
+	}
+
 	/**
 	 * Set the this object provides the results from individual UDPEchoPlus test packets collected during a test if {{param|#.EnableIndividualPacketResults}} is set to true.  When {{param|#.DiagnosticsState}} is set to {{enum|Completed|#.DiagnosticsState}} it should contain {{param|#.NumberOfRepetitions}} objects.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  The instance number should match the TestIterationNumber field of the request and response packet.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
 	 *
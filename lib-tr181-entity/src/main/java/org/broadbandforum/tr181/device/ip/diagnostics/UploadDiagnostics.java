@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.ip.diagnostics;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,9 +27,13 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.ip.diagnostics.uploaddiagnostics.IncrementalResult;
 import org.broadbandforum.tr181.device.ip.diagnostics.uploaddiagnostics.PerConnectionResult;
 
@@ -222,6 +227,7 @@ public class UploadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ROMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime romTime;
 	/**
@@ -238,6 +244,7 @@ public class UploadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "BOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime bomTime;
 	/**
@@ -254,6 +261,7 @@ public class UploadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "EOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime eomTime;
 	/**
@@ -321,6 +329,7 @@ public class UploadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "TCPOpenRequestTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenRequestTime;
 	/**
@@ -339,6 +348,7 @@ public class UploadDiagnostics {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "TCPOpenResponseTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenResponseTime;
 	/**
@@ -362,6 +372,11 @@ public class UploadDiagnostics {
 	@XmlElement(name = "IncrementalResult")
 	public Collection<IncrementalResult> incrementalResults;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UploadDiagnostics() {
 	}
 
@@ -420,6 +435,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -449,6 +465,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withDiagnosticsState(String diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -474,6 +491,7 @@ public class UploadDiagnostics {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -487,6 +505,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -520,6 +539,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setUploadURL(String uploadURL) {
 		this.uploadURL = uploadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -537,6 +557,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withUploadURL(String uploadURL) {
 		this.uploadURL = uploadURL;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -551,6 +572,17 @@ public class UploadDiagnostics {
 		return uploadTransports;
 	}
 
+	/**
+	 * Read the supported ''UploadDiagnostics'' transport protocols for a CPE device.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUploadTransports() {
+		return uploadTransports == null ? Collections.emptyList() : uploadTransports;
+	}
+
 	/**
 	 * Set the supported ''UploadDiagnostics'' transport protocols for a CPE device.
 	 *
@@ -559,6 +591,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setUploadTransports(Collection<String> uploadTransports) {
 		this.uploadTransports = uploadTransports;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -570,6 +603,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withUploadTransports(String string) {
 		getUploadTransports().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -591,6 +625,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setUploadDiagnosticsMaxConnections(Long uploadDiagnosticsMaxConnections) {
 		this.uploadDiagnosticsMaxConnections = uploadDiagnosticsMaxConnections;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -602,6 +637,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withUploadDiagnosticsMaxConnections(Long uploadDiagnosticsMaxConnections) {
 		this.uploadDiagnosticsMaxConnections = uploadDiagnosticsMaxConnections;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -623,6 +659,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setUploadDiagnosticsMaxIncrementalResult(Long uploadDiagnosticsMaxIncrementalResult) {
 		this.uploadDiagnosticsMaxIncrementalResult = uploadDiagnosticsMaxIncrementalResult;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -634,6 +671,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withUploadDiagnosticsMaxIncrementalResult(Long uploadDiagnosticsMaxIncrementalResult) {
 		this.uploadDiagnosticsMaxIncrementalResult = uploadDiagnosticsMaxIncrementalResult;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -659,6 +697,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -672,6 +711,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withDscP(Long dscP) {
 		this.dscP = dscP;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -697,6 +737,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -710,6 +751,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withEthernetPriority(Long ethernetPriority) {
 		this.ethernetPriority = ethernetPriority;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -735,6 +777,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTestFileLength(Long testFileLength) {
 		this.testFileLength = testFileLength;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -748,6 +791,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTestFileLength(Long testFileLength) {
 		this.testFileLength = testFileLength;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -769,6 +813,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTimeBasedTestDuration(Long timeBasedTestDuration) {
 		this.timeBasedTestDuration = timeBasedTestDuration;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -780,6 +825,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTimeBasedTestDuration(Long timeBasedTestDuration) {
 		this.timeBasedTestDuration = timeBasedTestDuration;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -805,6 +851,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTimeBasedTestMeasurementInterval(Long timeBasedTestMeasurementInterval) {
 		this.timeBasedTestMeasurementInterval = timeBasedTestMeasurementInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -818,6 +865,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTimeBasedTestMeasurementInterval(Long timeBasedTestMeasurementInterval) {
 		this.timeBasedTestMeasurementInterval = timeBasedTestMeasurementInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -843,6 +891,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTimeBasedTestMeasurementOffset(Long timeBasedTestMeasurementOffset) {
 		this.timeBasedTestMeasurementOffset = timeBasedTestMeasurementOffset;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -856,6 +905,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTimeBasedTestMeasurementOffset(Long timeBasedTestMeasurementOffset) {
 		this.timeBasedTestMeasurementOffset = timeBasedTestMeasurementOffset;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -877,6 +927,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -888,6 +939,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -909,6 +961,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setNumberOfConnections(Long numberOfConnections) {
 		this.numberOfConnections = numberOfConnections;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -920,6 +973,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withNumberOfConnections(Long numberOfConnections) {
 		this.numberOfConnections = numberOfConnections;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -941,6 +995,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -952,6 +1007,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withIpaddressUsed(IPAddress ipaddressUsed) {
 		this.ipaddressUsed = ipaddressUsed;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -989,6 +1045,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1008,6 +1065,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1045,6 +1103,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1064,6 +1123,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1101,6 +1161,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1120,6 +1181,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1141,6 +1203,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTestBytesSent(Long testBytesSent) {
 		this.testBytesSent = testBytesSent;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1152,6 +1215,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTestBytesSent(Long testBytesSent) {
 		this.testBytesSent = testBytesSent;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1173,6 +1237,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1184,6 +1249,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1205,6 +1271,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1216,6 +1283,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1237,6 +1305,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTestBytesSentUnderFullLoading(Long testBytesSentUnderFullLoading) {
 		this.testBytesSentUnderFullLoading = testBytesSentUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1248,6 +1317,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTestBytesSentUnderFullLoading(Long testBytesSentUnderFullLoading) {
 		this.testBytesSentUnderFullLoading = testBytesSentUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1269,6 +1339,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTotalBytesReceivedUnderFullLoading(Long totalBytesReceivedUnderFullLoading) {
 		this.totalBytesReceivedUnderFullLoading = totalBytesReceivedUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1280,6 +1351,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTotalBytesReceivedUnderFullLoading(Long totalBytesReceivedUnderFullLoading) {
 		this.totalBytesReceivedUnderFullLoading = totalBytesReceivedUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1301,6 +1373,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTotalBytesSentUnderFullLoading(Long totalBytesSentUnderFullLoading) {
 		this.totalBytesSentUnderFullLoading = totalBytesSentUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1312,6 +1385,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTotalBytesSentUnderFullLoading(Long totalBytesSentUnderFullLoading) {
 		this.totalBytesSentUnderFullLoading = totalBytesSentUnderFullLoading;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1333,6 +1407,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setPeriodOfFullLoading(Long periodOfFullLoading) {
 		this.periodOfFullLoading = periodOfFullLoading;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1344,6 +1419,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withPeriodOfFullLoading(Long periodOfFullLoading) {
 		this.periodOfFullLoading = periodOfFullLoading;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1385,6 +1461,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1406,6 +1483,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1447,6 +1525,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1468,6 +1547,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1489,6 +1569,7 @@ public class UploadDiagnostics {
 	 */
 	public void  setEnablePerConnectionResults(Boolean enablePerConnectionResults) {
 		this.enablePerConnectionResults = enablePerConnectionResults;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1500,6 +1581,7 @@ public class UploadDiagnostics {
 	 */
 	public UploadDiagnostics withEnablePerConnectionResults(Boolean enablePerConnectionResults) {
 		this.enablePerConnectionResults = enablePerConnectionResults;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1509,10 +1591,20 @@ public class UploadDiagnostics {
 	 * @return the value
 	 */
 	public Collection<PerConnectionResult> getPerConnectionResults() {
-		if (this.perConnectionResults == null){ this.perConnectionResults=new ArrayList<>();}
+		if (!(this.perConnectionResults instanceof InstanceTable)){ this.perConnectionResults=InstanceTable.of(this.perConnectionResults);}
 		return perConnectionResults;
 	}
 
+	/**
+	 * Read the results for individual connections.  This table is only populated when {{param|#.EnablePerConnectionResults}} is {{true}}.  A new object is created for each connection specified in {{param|#.NumberOfConnections}}.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PerConnectionResult> viewPerConnectionResults() {
+		return perConnectionResults == null ? Collections.emptyList() : perConnectionResults;
+	}
+
 	/**
 	 * Set the results for individual connections.  This table is only populated when {{param|#.EnablePerConnectionResults}} is {{true}}.  A new object is created for each connection specified in {{param|#.NumberOfConnections}}.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
 	 *
@@ -1539,10 +1631,20 @@ public class UploadDiagnostics {
 	 * @return the value
 	 */
 	public Collection<IncrementalResult> getIncrementalResults() {
-		if (this.incrementalResults == null){ this.incrementalResults=new ArrayList<>();}
+		if (!(this.incrementalResults instanceof InstanceTable)){ this.incrementalResults=InstanceTable.of(this.incrementalResults);}
 		return incrementalResults;
 	}
 
+	/**
+	 * Read the results for time segmented tests (tests where {{param|#.TimeBasedTestDuration}} > 0 and {{param|#.TimeBasedTestMeasurementInterval}} > 0).  This data is totaled across all connections in the test.  A new object is created every {{param|#.TimeBasedTestMeasurementInterval}} after that interval has completed.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IncrementalResult> viewIncrementalResults() {
+		return incrementalResults == null ? Collections.emptyList() : incrementalResults;
+	}
+
 	/**
 	 * Set the results for time segmented tests (tests where {{param|#.TimeBasedTestDuration}} > 0 and {{param|#.TimeBasedTestMeasurementInterval}} > 0).  This data is totaled across all connections in the test.  A new object is created every {{param|#.TimeBasedTestMeasurementInterval}} after that interval has completed.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
 	 *
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Contains the array of hop results returned. If a route could not be determined, this array will be empty
@@ -72,6 +73,11 @@ public class RouteHops {
 	@XmlElement(name = "RTTimes")
 	public Long rttimes;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RouteHops() {
 	}
 
@@ -94,6 +100,7 @@ public class RouteHops {
 	 */
 	public void  setHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -105,6 +112,7 @@ public class RouteHops {
 	 */
 	public RouteHops withHost(String host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -126,6 +134,7 @@ public class RouteHops {
 	 */
 	public void  setHostAddress(String hostAddress) {
 		this.hostAddress = hostAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -137,6 +146,7 @@ public class RouteHops {
 	 */
 	public RouteHops withHostAddress(String hostAddress) {
 		this.hostAddress = hostAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -158,6 +168,7 @@ public class RouteHops {
 	 */
 	public void  setErrorCode(Long errorCode) {
 		this.errorCode = errorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -169,6 +180,7 @@ public class RouteHops {
 	 */
 	public RouteHops withErrorCode(Long errorCode) {
 		this.errorCode = errorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -198,6 +210,7 @@ public class RouteHops {
 	 */
 	public void  setRttimes(Long rttimes) {
 		this.rttimes = rttimes;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -213,6 +226,7 @@ public class RouteHops {
 	 */
 	public RouteHops withRttimes(Long rttimes) {
 		this.rttimes = rttimes;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
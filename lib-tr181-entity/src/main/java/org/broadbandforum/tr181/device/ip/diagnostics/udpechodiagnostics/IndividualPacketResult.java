@@ -21,7 +21,10 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object provides the results from individual UDPEchoPlus test packets collected during a test if {{param|#.EnableIndividualPacketResults}} is set to true.  When {{param|#.DiagnosticsState}} is set to {{enum|Completed|#.DiagnosticsState}} it should contain {{param|#.NumberOfRepetitions}} objects.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  The instance number should match the TestIterationNumber field of the request and response packet.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
@@ -49,6 +52,7 @@ public class IndividualPacketResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "PacketSendTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime packetSendTime;
 	/**
 	 * Time the client receives the response packet in UTC, which MUST be specified to microsecond precision.
@@ -60,6 +64,7 @@ public class IndividualPacketResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "PacketReceiveTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime packetReceiveTime;
 	/**
 	 * The TestGenSN field in the UDPEcho Plus packet {{bibref|TR-143a1|Section A.1.4}} sent by the CPE client.
@@ -99,6 +104,11 @@ public class IndividualPacketResult {
 	@XmlElement(name = "TestRespReplyFailureCount")
 	public Long testRespReplyFailureCount;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IndividualPacketResult() {
 	}
 
@@ -121,6 +131,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setPacketSuccess(Boolean packetSuccess) {
 		this.packetSuccess = packetSuccess;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -132,6 +143,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withPacketSuccess(Boolean packetSuccess) {
 		this.packetSuccess = packetSuccess;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -157,6 +169,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setPacketSendTime(LocalDateTime packetSendTime) {
 		this.packetSendTime = packetSendTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -170,6 +183,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withPacketSendTime(LocalDateTime packetSendTime) {
 		this.packetSendTime = packetSendTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +213,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setPacketReceiveTime(LocalDateTime packetReceiveTime) {
 		this.packetReceiveTime = packetReceiveTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -214,6 +229,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withPacketReceiveTime(LocalDateTime packetReceiveTime) {
 		this.packetReceiveTime = packetReceiveTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -235,6 +251,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setTestGenSN(Long testGenSN) {
 		this.testGenSN = testGenSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -246,6 +263,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withTestGenSN(Long testGenSN) {
 		this.testGenSN = testGenSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -267,6 +285,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setTestRespSN(Long testRespSN) {
 		this.testRespSN = testRespSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -278,6 +297,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withTestRespSN(Long testRespSN) {
 		this.testRespSN = testRespSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -299,6 +319,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setTestRespRcvTimeStamp(Long testRespRcvTimeStamp) {
 		this.testRespRcvTimeStamp = testRespRcvTimeStamp;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -310,6 +331,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withTestRespRcvTimeStamp(Long testRespRcvTimeStamp) {
 		this.testRespRcvTimeStamp = testRespRcvTimeStamp;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -335,6 +357,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setTestRespReplyTimeStamp(Long testRespReplyTimeStamp) {
 		this.testRespReplyTimeStamp = testRespReplyTimeStamp;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -348,6 +371,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withTestRespReplyTimeStamp(Long testRespReplyTimeStamp) {
 		this.testRespReplyTimeStamp = testRespReplyTimeStamp;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -369,6 +393,7 @@ public class IndividualPacketResult {
 	 */
 	public void  setTestRespReplyFailureCount(Long testRespReplyFailureCount) {
 		this.testRespReplyFailureCount = testRespReplyFailureCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -380,6 +405,7 @@ public class IndividualPacketResult {
 	 */
 	public IndividualPacketResult withTestRespReplyFailureCount(Long testRespReplyFailureCount) {
 		this.testRespReplyFailureCount = testRespReplyFailureCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
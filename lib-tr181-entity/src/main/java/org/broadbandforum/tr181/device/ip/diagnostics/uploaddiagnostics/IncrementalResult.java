@@ -21,8 +21,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Results for time segmented tests (tests where {{param|#.TimeBasedTestDuration}} > 0 and {{param|#.TimeBasedTestMeasurementInterval}} > 0).  This data is totaled across all connections in the test.  A new object is created every {{param|#.TimeBasedTestMeasurementInterval}} after that interval has completed.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
@@ -65,6 +68,7 @@ public class IncrementalResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "StartTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime startTime;
 	/**
@@ -75,9 +79,15 @@ public class IncrementalResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "EndTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime endTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IncrementalResult() {
 	}
 
@@ -100,6 +110,7 @@ public class IncrementalResult {
 	 */
 	public void  setTestBytesSent(Long testBytesSent) {
 		this.testBytesSent = testBytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +122,7 @@ public class IncrementalResult {
 	 */
 	public IncrementalResult withTestBytesSent(Long testBytesSent) {
 		this.testBytesSent = testBytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -132,6 +144,7 @@ public class IncrementalResult {
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -143,6 +156,7 @@ public class IncrementalResult {
 	 */
 	public IncrementalResult withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -164,6 +178,7 @@ public class IncrementalResult {
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -175,6 +190,7 @@ public class IncrementalResult {
 	 */
 	public IncrementalResult withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -200,6 +216,7 @@ public class IncrementalResult {
 	 */
 	public void  setStartTime(LocalDateTime startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -213,6 +230,7 @@ public class IncrementalResult {
 	 */
 	public IncrementalResult withStartTime(LocalDateTime startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -238,6 +256,7 @@ public class IncrementalResult {
 	 */
 	public void  setEndTime(LocalDateTime endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -251,6 +270,7 @@ public class IncrementalResult {
 	 */
 	public IncrementalResult withEndTime(LocalDateTime endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
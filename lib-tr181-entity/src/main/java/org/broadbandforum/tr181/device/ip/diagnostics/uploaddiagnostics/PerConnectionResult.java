@@ -21,8 +21,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Results for individual connections.  This table is only populated when {{param|#.EnablePerConnectionResults}} is {{true}}.  A new object is created for each connection specified in {{param|#.NumberOfConnections}}.  Instance numbers MUST start at 1 and sequentially increment as new instances are created.  All instances are removed when {{param|#.DiagnosticsState}} is set to {{enum|Requested|#.DiagnosticsState}} or {{enum|None|#.DiagnosticsState}}.
@@ -47,6 +50,7 @@ public class PerConnectionResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "ROMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime romTime;
 	/**
@@ -61,6 +65,7 @@ public class PerConnectionResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "BOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime bomTime;
 	/**
@@ -75,6 +80,7 @@ public class PerConnectionResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "EOMTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime eomTime;
 	/**
@@ -113,6 +119,7 @@ public class PerConnectionResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "TCPOpenRequestTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenRequestTime;
 	/**
@@ -127,9 +134,15 @@ public class PerConnectionResult {
 	 * @since 2.9
 	 */
 	@XmlElement(name = "TCPOpenResponseTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime tcpOpenResponseTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PerConnectionResult() {
 	}
 
@@ -164,6 +177,7 @@ public class PerConnectionResult {
 	 */
 	public void  setRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -181,6 +195,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withRomTime(LocalDateTime romTime) {
 		this.romTime = romTime;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -214,6 +229,7 @@ public class PerConnectionResult {
 	 */
 	public void  setBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -231,6 +247,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withBomTime(LocalDateTime bomTime) {
 		this.bomTime = bomTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -264,6 +281,7 @@ public class PerConnectionResult {
 	 */
 	public void  setEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -281,6 +299,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withEomTime(LocalDateTime eomTime) {
 		this.eomTime = eomTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -302,6 +321,7 @@ public class PerConnectionResult {
 	 */
 	public void  setTestBytesSent(Long testBytesSent) {
 		this.testBytesSent = testBytesSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -313,6 +333,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withTestBytesSent(Long testBytesSent) {
 		this.testBytesSent = testBytesSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -334,6 +355,7 @@ public class PerConnectionResult {
 	 */
 	public void  setTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -345,6 +367,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withTotalBytesReceived(Long totalBytesReceived) {
 		this.totalBytesReceived = totalBytesReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -366,6 +389,7 @@ public class PerConnectionResult {
 	 */
 	public void  setTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -377,6 +401,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withTotalBytesSent(Long totalBytesSent) {
 		this.totalBytesSent = totalBytesSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -410,6 +435,7 @@ public class PerConnectionResult {
 	 */
 	public void  setTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -427,6 +453,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withTcpOpenRequestTime(LocalDateTime tcpOpenRequestTime) {
 		this.tcpOpenRequestTime = tcpOpenRequestTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -460,6 +487,7 @@ public class PerConnectionResult {
 	 */
 	public void  setTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -477,6 +505,7 @@ public class PerConnectionResult {
 	 */
 	public PerConnectionResult withTcpOpenResponseTime(LocalDateTime tcpOpenResponseTime) {
 		this.tcpOpenResponseTime = tcpOpenResponseTime;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
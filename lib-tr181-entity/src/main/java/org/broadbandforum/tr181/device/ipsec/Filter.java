@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Filter table that represents the IPsec Security Policy Database (SPD) {{bibref|RFC4301|Section 4.4.1}} selection criteria.  Each (ordered) entry defines a set of selection criteria and references a {{object|#.Profile}} table entry that specifies how matching packets will be processed.
@@ -281,6 +283,16 @@ public class Filter {
 	@CWMPParameter(access = "readWrite")
 	public String profile;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Filter() {
 	}
 
@@ -303,6 +315,7 @@ public class Filter {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -314,6 +327,7 @@ public class Filter {
 	 */
 	public Filter withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -343,6 +357,7 @@ public class Filter {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -358,6 +373,7 @@ public class Filter {
 	 */
 	public Filter withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -387,6 +403,7 @@ public class Filter {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -402,6 +419,7 @@ public class Filter {
 	 */
 	public Filter withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -423,6 +441,8 @@ public class Filter {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -434,6 +454,8 @@ public class Filter {
 	 */
 	public Filter withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -459,6 +481,7 @@ public class Filter {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -472,6 +495,7 @@ public class Filter {
 	 */
 	public Filter with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -497,6 +521,7 @@ public class Filter {
 	 */
 	public void  setAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -510,6 +535,7 @@ public class Filter {
 	 */
 	public Filter withAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -535,6 +561,7 @@ public class Filter {
 	 */
 	public void  setDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -548,6 +575,7 @@ public class Filter {
 	 */
 	public Filter withDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -573,6 +601,7 @@ public class Filter {
 	 */
 	public void  setDestMask(IPAddress destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -586,6 +615,7 @@ public class Filter {
 	 */
 	public Filter withDestMask(IPAddress destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -611,6 +641,7 @@ public class Filter {
 	 */
 	public void  setDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -624,6 +655,7 @@ public class Filter {
 	 */
 	public Filter withDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -649,6 +681,7 @@ public class Filter {
 	 */
 	public void  setSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -662,6 +695,7 @@ public class Filter {
 	 */
 	public Filter withSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -687,6 +721,7 @@ public class Filter {
 	 */
 	public void  setSourceMask(IPAddress sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -700,6 +735,7 @@ public class Filter {
 	 */
 	public Filter withSourceMask(IPAddress sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -725,6 +761,7 @@ public class Filter {
 	 */
 	public void  setSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -738,6 +775,7 @@ public class Filter {
 	 */
 	public Filter withSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -767,6 +805,7 @@ public class Filter {
 	 */
 	public void  setProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -782,6 +821,7 @@ public class Filter {
 	 */
 	public Filter withProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -807,6 +847,7 @@ public class Filter {
 	 */
 	public void  setProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -820,6 +861,7 @@ public class Filter {
 	 */
 	public Filter withProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -849,6 +891,7 @@ public class Filter {
 	 */
 	public void  setDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -864,6 +907,7 @@ public class Filter {
 	 */
 	public Filter withDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -893,6 +937,7 @@ public class Filter {
 	 */
 	public void  setDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -908,6 +953,7 @@ public class Filter {
 	 */
 	public Filter withDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -933,6 +979,7 @@ public class Filter {
 	 */
 	public void  setDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -946,6 +993,7 @@ public class Filter {
 	 */
 	public Filter withDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -975,6 +1023,7 @@ public class Filter {
 	 */
 	public void  setSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -990,6 +1039,7 @@ public class Filter {
 	 */
 	public Filter withSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1019,6 +1069,7 @@ public class Filter {
 	 */
 	public void  setSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1034,6 +1085,7 @@ public class Filter {
 	 */
 	public Filter withSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1059,6 +1111,7 @@ public class Filter {
 	 */
 	public void  setSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1072,6 +1125,7 @@ public class Filter {
 	 */
 	public Filter withSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1093,6 +1147,7 @@ public class Filter {
 	 */
 	public void  setProcessingChoice(String processingChoice) {
 		this.processingChoice = processingChoice;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1104,6 +1159,7 @@ public class Filter {
 	 */
 	public Filter withProcessingChoice(String processingChoice) {
 		this.processingChoice = processingChoice;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1137,6 +1193,7 @@ public class Filter {
 	 */
 	public void  setProfile(String profile) {
 		this.profile = profile;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1154,6 +1211,7 @@ public class Filter {
 	 */
 	public Filter withProfile(String profile) {
 		this.profile = profile;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
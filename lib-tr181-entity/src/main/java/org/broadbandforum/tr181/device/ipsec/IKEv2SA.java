@@ -16,8 +16,8 @@
 package org.broadbandforum.tr181.device.ipsec;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,11 +25,15 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.ipsec.ikev2sa.ChildSA;
 import org.broadbandforum.tr181.device.ipsec.ikev2sa.ReceivedCPAttr;
 import org.broadbandforum.tr181.device.ipsec.ikev2sa.Stats;
@@ -138,6 +142,7 @@ public class IKEv2SA {
 	 * @since 2.5
 	 */
 	@XmlElement(name = "CreationTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime creationTime;
 	/**
 	 * Whether NAT traversal is supported by the device and, if so, whether a NAT was detected.
@@ -169,6 +174,16 @@ public class IKEv2SA {
 	@XmlElement(name = "ChildSA")
 	public Collection<ChildSA> childSAs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IKEv2SA() {
 	}
 
@@ -191,6 +206,7 @@ public class IKEv2SA {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -202,6 +218,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -223,6 +240,7 @@ public class IKEv2SA {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -234,6 +252,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -259,6 +278,8 @@ public class IKEv2SA {
 	 */
 	public void  setTunnel(String tunnel) {
 		this.tunnel = tunnel;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -272,6 +293,8 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withTunnel(String tunnel) {
 		this.tunnel = tunnel;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -293,6 +316,7 @@ public class IKEv2SA {
 	 */
 	public void  setLocalAddress(IPAddress localAddress) {
 		this.localAddress = localAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -304,6 +328,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withLocalAddress(IPAddress localAddress) {
 		this.localAddress = localAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -325,6 +350,7 @@ public class IKEv2SA {
 	 */
 	public void  setRemoteAddress(IPAddress remoteAddress) {
 		this.remoteAddress = remoteAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -336,6 +362,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withRemoteAddress(IPAddress remoteAddress) {
 		this.remoteAddress = remoteAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -361,6 +388,7 @@ public class IKEv2SA {
 	 */
 	public void  setEncryptionAlgorithm(String encryptionAlgorithm) {
 		this.encryptionAlgorithm = encryptionAlgorithm;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -374,6 +402,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withEncryptionAlgorithm(String encryptionAlgorithm) {
 		this.encryptionAlgorithm = encryptionAlgorithm;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -399,6 +428,7 @@ public class IKEv2SA {
 	 */
 	public void  setEncryptionKeyLength(Long encryptionKeyLength) {
 		this.encryptionKeyLength = encryptionKeyLength;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -412,6 +442,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withEncryptionKeyLength(Long encryptionKeyLength) {
 		this.encryptionKeyLength = encryptionKeyLength;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -437,6 +468,7 @@ public class IKEv2SA {
 	 */
 	public void  setPseudoRandomFunction(String pseudoRandomFunction) {
 		this.pseudoRandomFunction = pseudoRandomFunction;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -450,6 +482,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withPseudoRandomFunction(String pseudoRandomFunction) {
 		this.pseudoRandomFunction = pseudoRandomFunction;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -475,6 +508,7 @@ public class IKEv2SA {
 	 */
 	public void  setIntegrityAlgorithm(String integrityAlgorithm) {
 		this.integrityAlgorithm = integrityAlgorithm;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -488,6 +522,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withIntegrityAlgorithm(String integrityAlgorithm) {
 		this.integrityAlgorithm = integrityAlgorithm;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -513,6 +548,7 @@ public class IKEv2SA {
 	 */
 	public void  setDiffieHellmanGroupTransform(String diffieHellmanGroupTransform) {
 		this.diffieHellmanGroupTransform = diffieHellmanGroupTransform;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -526,6 +562,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withDiffieHellmanGroupTransform(String diffieHellmanGroupTransform) {
 		this.diffieHellmanGroupTransform = diffieHellmanGroupTransform;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -547,6 +584,7 @@ public class IKEv2SA {
 	 */
 	public void  setCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -558,6 +596,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -579,6 +618,7 @@ public class IKEv2SA {
 	 */
 	public void  setNatDetected(String natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -590,6 +630,7 @@ public class IKEv2SA {
 	 */
 	public IKEv2SA withNatDetected(String natDetected) {
 		this.natDetected = natDetected;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -636,10 +677,22 @@ public class IKEv2SA {
 	 * @return the value
 	 */
 	public Collection<ReceivedCPAttr> getReceivedCPAttrs() {
-		if (this.receivedCPAttrs == null){ this.receivedCPAttrs=new ArrayList<>();}
+		if (!(this.receivedCPAttrs instanceof InstanceTable)){ this.receivedCPAttrs=InstanceTable.of(this.receivedCPAttrs);}
 		return receivedCPAttrs;
 	}
 
+	/**
+	 * Read the this is a transitory table that lists all the IKEv2 Configuration Payload (CP) {{bibref|RFC5996|Section 3.15}} Attributes that have been received via CFG_REPLY messages.  Table entries are automatically created to correspond with received Attributes. However, it is a local matter to the CPE when to delete old table entries.
+
+        If the same Attribute is received multiple times, it is up to the CPE to decide which entries to include (i.e. whether the same Attribute will be present multiple times). In order to allow for the same Attribute to be present multiple times within the table, this table has no unique key defined.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ReceivedCPAttr> viewReceivedCPAttrs() {
+		return receivedCPAttrs == null ? Collections.emptyList() : receivedCPAttrs;
+	}
+
 	/**
 	 * Set the this is a transitory table that lists all the IKEv2 Configuration Payload (CP) {{bibref|RFC5996|Section 3.15}} Attributes that have been received via CFG_REPLY messages.  Table entries are automatically created to correspond with received Attributes. However, it is a local matter to the CPE when to delete old table entries.
 
@@ -670,10 +723,20 @@ public class IKEv2SA {
 	 * @return the value
 	 */
 	public Collection<ChildSA> getChildSAs() {
-		if (this.childSAs == null){ this.childSAs=new ArrayList<>();}
+		if (!(this.childSAs instanceof InstanceTable)){ this.childSAs=InstanceTable.of(this.childSAs);}
 		return childSAs;
 	}
 
+	/**
+	 * Read the represents a child Security Association (SA) pair, i.e. an inbound child SA and an outbound child SA.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ChildSA> viewChildSAs() {
+		return childSAs == null ? Collections.emptyList() : childSAs;
+	}
+
 	/**
 	 * Set the represents a child Security Association (SA) pair, i.e. an inbound child SA and an outbound child SA.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ipsec;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ipsec.profile.SentCPAttr;
 
 	/**
@@ -282,6 +285,16 @@ public class Profile {
 	@CWMPParameter(access = "readWrite")
 	public Collection<SentCPAttr> sentCPAttrs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Profile() {
 	}
 
@@ -304,6 +317,8 @@ public class Profile {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -315,6 +330,8 @@ public class Profile {
 	 */
 	public Profile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -348,6 +365,7 @@ public class Profile {
 	 */
 	public void  setMaxChildSAs(Long maxChildSAs) {
 		this.maxChildSAs = maxChildSAs;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -365,6 +383,7 @@ public class Profile {
 	 */
 	public Profile withMaxChildSAs(Long maxChildSAs) {
 		this.maxChildSAs = maxChildSAs;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -379,6 +398,17 @@ public class Profile {
 		return remoteEndpoints;
 	}
 
+	/**
+	 * Read the host name or IP address of the remote IPsec tunnel endpoint.  If more than one name/address is supplied, they will be tried in turn, i.e. they are in decreasing order of precedence.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemoteEndpoints() {
+		return remoteEndpoints == null ? Collections.emptyList() : remoteEndpoints;
+	}
+
 	/**
 	 * Set the host name or IP address of the remote IPsec tunnel endpoint.  If more than one name/address is supplied, they will be tried in turn, i.e. they are in decreasing order of precedence.
 	 *
@@ -387,6 +417,7 @@ public class Profile {
 	 */
 	public void  setRemoteEndpoints(Collection<String> remoteEndpoints) {
 		this.remoteEndpoints = remoteEndpoints;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -398,6 +429,7 @@ public class Profile {
 	 */
 	public Profile withRemoteEndpoints(String string) {
 		getRemoteEndpoints().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -423,6 +455,7 @@ public class Profile {
 	 */
 	public void  setForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -436,6 +469,7 @@ public class Profile {
 	 */
 	public Profile withForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -461,6 +495,7 @@ public class Profile {
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -474,6 +509,7 @@ public class Profile {
 	 */
 	public Profile withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -499,6 +535,7 @@ public class Profile {
 	 */
 	public void  setIkev2AuthenticationMethod(String ikev2AuthenticationMethod) {
 		this.ikev2AuthenticationMethod = ikev2AuthenticationMethod;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -512,6 +549,7 @@ public class Profile {
 	 */
 	public Profile withIkev2AuthenticationMethod(String ikev2AuthenticationMethod) {
 		this.ikev2AuthenticationMethod = ikev2AuthenticationMethod;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -526,6 +564,17 @@ public class Profile {
 		return ikev2AllowedEncryptionAlgorithms;
 	}
 
+	/**
+	 * Get allowed IKEv2 encryption algorithms.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkev2AllowedEncryptionAlgorithms() {
+		return ikev2AllowedEncryptionAlgorithms == null ? Collections.emptyList() : ikev2AllowedEncryptionAlgorithms;
+	}
+
 	/**
 	 * Set allowed IKEv2 encryption algorithms.
 	 *
@@ -534,6 +583,7 @@ public class Profile {
 	 */
 	public void  setIkev2AllowedEncryptionAlgorithms(Collection<String> ikev2AllowedEncryptionAlgorithms) {
 		this.ikev2AllowedEncryptionAlgorithms = ikev2AllowedEncryptionAlgorithms;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -545,6 +595,7 @@ public class Profile {
 	 */
 	public Profile withIkev2AllowedEncryptionAlgorithms(String string) {
 		getIkev2AllowedEncryptionAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -559,6 +610,17 @@ public class Profile {
 		return espAllowedEncryptionAlgorithms;
 	}
 
+	/**
+	 * Get allowed ESP encryption algorithms.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEspAllowedEncryptionAlgorithms() {
+		return espAllowedEncryptionAlgorithms == null ? Collections.emptyList() : espAllowedEncryptionAlgorithms;
+	}
+
 	/**
 	 * Set allowed ESP encryption algorithms.
 	 *
@@ -567,6 +629,7 @@ public class Profile {
 	 */
 	public void  setEspAllowedEncryptionAlgorithms(Collection<String> espAllowedEncryptionAlgorithms) {
 		this.espAllowedEncryptionAlgorithms = espAllowedEncryptionAlgorithms;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -578,6 +641,7 @@ public class Profile {
 	 */
 	public Profile withEspAllowedEncryptionAlgorithms(String string) {
 		getEspAllowedEncryptionAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -592,6 +656,17 @@ public class Profile {
 		return ikev2AllowedPseudoRandomFunctions;
 	}
 
+	/**
+	 * Get allowed IKEv2 pseudo-random functions.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkev2AllowedPseudoRandomFunctions() {
+		return ikev2AllowedPseudoRandomFunctions == null ? Collections.emptyList() : ikev2AllowedPseudoRandomFunctions;
+	}
+
 	/**
 	 * Set allowed IKEv2 pseudo-random functions.
 	 *
@@ -600,6 +675,7 @@ public class Profile {
 	 */
 	public void  setIkev2AllowedPseudoRandomFunctions(Collection<String> ikev2AllowedPseudoRandomFunctions) {
 		this.ikev2AllowedPseudoRandomFunctions = ikev2AllowedPseudoRandomFunctions;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -611,6 +687,7 @@ public class Profile {
 	 */
 	public Profile withIkev2AllowedPseudoRandomFunctions(String string) {
 		getIkev2AllowedPseudoRandomFunctions().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -625,6 +702,17 @@ public class Profile {
 		return ikev2AllowedIntegrityAlgorithms;
 	}
 
+	/**
+	 * Get allowed IKEv2 integrity algorithms.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkev2AllowedIntegrityAlgorithms() {
+		return ikev2AllowedIntegrityAlgorithms == null ? Collections.emptyList() : ikev2AllowedIntegrityAlgorithms;
+	}
+
 	/**
 	 * Set allowed IKEv2 integrity algorithms.
 	 *
@@ -633,6 +721,7 @@ public class Profile {
 	 */
 	public void  setIkev2AllowedIntegrityAlgorithms(Collection<String> ikev2AllowedIntegrityAlgorithms) {
 		this.ikev2AllowedIntegrityAlgorithms = ikev2AllowedIntegrityAlgorithms;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -644,6 +733,7 @@ public class Profile {
 	 */
 	public Profile withIkev2AllowedIntegrityAlgorithms(String string) {
 		getIkev2AllowedIntegrityAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -658,6 +748,17 @@ public class Profile {
 		return ahallowedIntegrityAlgorithms;
 	}
 
+	/**
+	 * Get allowed AH integrity algorithms {{bibref|IKEv2-params|Transform Type 3}} {{bibref|RFC4835|Section 3.2}}.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAhallowedIntegrityAlgorithms() {
+		return ahallowedIntegrityAlgorithms == null ? Collections.emptyList() : ahallowedIntegrityAlgorithms;
+	}
+
 	/**
 	 * Set allowed AH integrity algorithms {{bibref|IKEv2-params|Transform Type 3}} {{bibref|RFC4835|Section 3.2}}.
 	 *
@@ -666,6 +767,7 @@ public class Profile {
 	 */
 	public void  setAhallowedIntegrityAlgorithms(Collection<String> ahallowedIntegrityAlgorithms) {
 		this.ahallowedIntegrityAlgorithms = ahallowedIntegrityAlgorithms;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -677,6 +779,7 @@ public class Profile {
 	 */
 	public Profile withAhallowedIntegrityAlgorithms(String string) {
 		getAhallowedIntegrityAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -691,6 +794,17 @@ public class Profile {
 		return espAllowedIntegrityAlgorithms;
 	}
 
+	/**
+	 * Get allowed ESP integrity algorithms {{bibref|IKEv2-params|Transform Type 3}} {{bibref|RFC4835|Section 3.1.1}}.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEspAllowedIntegrityAlgorithms() {
+		return espAllowedIntegrityAlgorithms == null ? Collections.emptyList() : espAllowedIntegrityAlgorithms;
+	}
+
 	/**
 	 * Set allowed ESP integrity algorithms {{bibref|IKEv2-params|Transform Type 3}} {{bibref|RFC4835|Section 3.1.1}}.
 	 *
@@ -699,6 +813,7 @@ public class Profile {
 	 */
 	public void  setEspAllowedIntegrityAlgorithms(Collection<String> espAllowedIntegrityAlgorithms) {
 		this.espAllowedIntegrityAlgorithms = espAllowedIntegrityAlgorithms;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -710,6 +825,7 @@ public class Profile {
 	 */
 	public Profile withEspAllowedIntegrityAlgorithms(String string) {
 		getEspAllowedIntegrityAlgorithms().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -724,6 +840,17 @@ public class Profile {
 		return ikev2AllowedDiffieHellmanGroupTransforms;
 	}
 
+	/**
+	 * Get allowed IKEv2 Diffie-Hellman group transforms.
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkev2AllowedDiffieHellmanGroupTransforms() {
+		return ikev2AllowedDiffieHellmanGroupTransforms == null ? Collections.emptyList() : ikev2AllowedDiffieHellmanGroupTransforms;
+	}
+
 	/**
 	 * Set allowed IKEv2 Diffie-Hellman group transforms.
 	 *
@@ -732,6 +859,7 @@ public class Profile {
 	 */
 	public void  setIkev2AllowedDiffieHellmanGroupTransforms(Collection<String> ikev2AllowedDiffieHellmanGroupTransforms) {
 		this.ikev2AllowedDiffieHellmanGroupTransforms = ikev2AllowedDiffieHellmanGroupTransforms;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -743,6 +871,7 @@ public class Profile {
 	 */
 	public Profile withIkev2AllowedDiffieHellmanGroupTransforms(String string) {
 		getIkev2AllowedDiffieHellmanGroupTransforms().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -764,6 +893,7 @@ public class Profile {
 	 */
 	public void  setIkev2DeadPeerDetectionTimeout(Long ikev2DeadPeerDetectionTimeout) {
 		this.ikev2DeadPeerDetectionTimeout = ikev2DeadPeerDetectionTimeout;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -775,6 +905,7 @@ public class Profile {
 	 */
 	public Profile withIkev2DeadPeerDetectionTimeout(Long ikev2DeadPeerDetectionTimeout) {
 		this.ikev2DeadPeerDetectionTimeout = ikev2DeadPeerDetectionTimeout;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -796,6 +927,7 @@ public class Profile {
 	 */
 	public void  setIkev2NATTKeepaliveTimeout(Long ikev2NATTKeepaliveTimeout) {
 		this.ikev2NATTKeepaliveTimeout = ikev2NATTKeepaliveTimeout;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -807,6 +939,7 @@ public class Profile {
 	 */
 	public Profile withIkev2NATTKeepaliveTimeout(Long ikev2NATTKeepaliveTimeout) {
 		this.ikev2NATTKeepaliveTimeout = ikev2NATTKeepaliveTimeout;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -832,6 +965,7 @@ public class Profile {
 	 */
 	public void  setAntiReplayWindowSize(Long antiReplayWindowSize) {
 		this.antiReplayWindowSize = antiReplayWindowSize;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -845,6 +979,7 @@ public class Profile {
 	 */
 	public Profile withAntiReplayWindowSize(Long antiReplayWindowSize) {
 		this.antiReplayWindowSize = antiReplayWindowSize;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -866,6 +1001,7 @@ public class Profile {
 	 */
 	public void  setDonotFragment(String donotFragment) {
 		this.donotFragment = donotFragment;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -877,6 +1013,7 @@ public class Profile {
 	 */
 	public Profile withDonotFragment(String donotFragment) {
 		this.donotFragment = donotFragment;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -914,6 +1051,7 @@ public class Profile {
 	 */
 	public void  setDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -933,6 +1071,7 @@ public class Profile {
 	 */
 	public Profile withDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -958,6 +1097,7 @@ public class Profile {
 	 */
 	public void  setIkev2SATrafficLimit(Long ikev2SATrafficLimit) {
 		this.ikev2SATrafficLimit = ikev2SATrafficLimit;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -971,6 +1111,7 @@ public class Profile {
 	 */
 	public Profile withIkev2SATrafficLimit(Long ikev2SATrafficLimit) {
 		this.ikev2SATrafficLimit = ikev2SATrafficLimit;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -996,6 +1137,7 @@ public class Profile {
 	 */
 	public void  setIkev2SATimeLimit(Long ikev2SATimeLimit) {
 		this.ikev2SATimeLimit = ikev2SATimeLimit;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1009,6 +1151,7 @@ public class Profile {
 	 */
 	public Profile withIkev2SATimeLimit(Long ikev2SATimeLimit) {
 		this.ikev2SATimeLimit = ikev2SATimeLimit;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1030,6 +1173,7 @@ public class Profile {
 	 */
 	public void  setIkev2SAExpiryAction(String ikev2SAExpiryAction) {
 		this.ikev2SAExpiryAction = ikev2SAExpiryAction;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1041,6 +1185,7 @@ public class Profile {
 	 */
 	public Profile withIkev2SAExpiryAction(String ikev2SAExpiryAction) {
 		this.ikev2SAExpiryAction = ikev2SAExpiryAction;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1066,6 +1211,7 @@ public class Profile {
 	 */
 	public void  setChildSATrafficLimit(Long childSATrafficLimit) {
 		this.childSATrafficLimit = childSATrafficLimit;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1079,6 +1225,7 @@ public class Profile {
 	 */
 	public Profile withChildSATrafficLimit(Long childSATrafficLimit) {
 		this.childSATrafficLimit = childSATrafficLimit;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1104,6 +1251,7 @@ public class Profile {
 	 */
 	public void  setChildSATimeLimit(Long childSATimeLimit) {
 		this.childSATimeLimit = childSATimeLimit;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1117,6 +1265,7 @@ public class Profile {
 	 */
 	public Profile withChildSATimeLimit(Long childSATimeLimit) {
 		this.childSATimeLimit = childSATimeLimit;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1138,6 +1287,7 @@ public class Profile {
 	 */
 	public void  setChildSAExpiryAction(String childSAExpiryAction) {
 		this.childSAExpiryAction = childSAExpiryAction;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1149,6 +1299,7 @@ public class Profile {
 	 */
 	public Profile withChildSAExpiryAction(String childSAExpiryAction) {
 		this.childSAExpiryAction = childSAExpiryAction;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1158,10 +1309,20 @@ public class Profile {
 	 * @return the value
 	 */
 	public Collection<SentCPAttr> getSentCPAttrs() {
-		if (this.sentCPAttrs == null){ this.sentCPAttrs=new ArrayList<>();}
+		if (!(this.sentCPAttrs instanceof InstanceTable)){ this.sentCPAttrs=InstanceTable.of(this.sentCPAttrs);}
 		return sentCPAttrs;
 	}
 
+	/**
+	 * Read the each instance of this object represents an IKEv2 Configuration Payload (CP) {{bibref|RFC5996|Section 3.15}} Attribute that MUST, if enabled, be sent in IKEv2 CP CFG_REQUEST messages.  All such Attributes MUST be listed.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SentCPAttr> viewSentCPAttrs() {
+		return sentCPAttrs == null ? Collections.emptyList() : sentCPAttrs;
+	}
+
 	/**
 	 * Set the each instance of this object represents an IKEv2 Configuration Payload (CP) {{bibref|RFC5996|Section 3.15}} Attribute that MUST, if enabled, be sent in IKEv2 CP CFG_REQUEST messages.  All such Attributes MUST be listed.
 	 *
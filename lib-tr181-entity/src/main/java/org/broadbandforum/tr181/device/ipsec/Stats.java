@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -122,6 +123,11 @@ public class Stats {
 	@XmlElement(name = "OtherReceiveErrors")
 	public StatsCounter32 otherReceiveErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -144,6 +150,7 @@ public class Stats {
 	 */
 	public void  setNegotiationFailures(StatsCounter32 negotiationFailures) {
 		this.negotiationFailures = negotiationFailures;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -155,6 +162,7 @@ public class Stats {
 	 */
 	public Stats withNegotiationFailures(StatsCounter32 negotiationFailures) {
 		this.negotiationFailures = negotiationFailures;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -176,6 +184,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -187,6 +196,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -208,6 +218,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -219,6 +230,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -240,6 +252,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -251,6 +264,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -272,6 +286,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -283,6 +298,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -304,6 +320,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -315,6 +332,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -336,6 +354,7 @@ public class Stats {
 	 */
 	public void  setUnknownSPIErrors(StatsCounter32 unknownSPIErrors) {
 		this.unknownSPIErrors = unknownSPIErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -347,6 +366,7 @@ public class Stats {
 	 */
 	public Stats withUnknownSPIErrors(StatsCounter32 unknownSPIErrors) {
 		this.unknownSPIErrors = unknownSPIErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -368,6 +388,7 @@ public class Stats {
 	 */
 	public void  setDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -379,6 +400,7 @@ public class Stats {
 	 */
 	public Stats withDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -400,6 +422,7 @@ public class Stats {
 	 */
 	public void  setIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -411,6 +434,7 @@ public class Stats {
 	 */
 	public Stats withIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -432,6 +456,7 @@ public class Stats {
 	 */
 	public void  setReplayErrors(StatsCounter32 replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -443,6 +468,7 @@ public class Stats {
 	 */
 	public Stats withReplayErrors(StatsCounter32 replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -464,6 +490,7 @@ public class Stats {
 	 */
 	public void  setPolicyErrors(StatsCounter32 policyErrors) {
 		this.policyErrors = policyErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -475,6 +502,7 @@ public class Stats {
 	 */
 	public Stats withPolicyErrors(StatsCounter32 policyErrors) {
 		this.policyErrors = policyErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -496,6 +524,7 @@ public class Stats {
 	 */
 	public void  setOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -507,6 +536,7 @@ public class Stats {
 	 */
 	public Stats withOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
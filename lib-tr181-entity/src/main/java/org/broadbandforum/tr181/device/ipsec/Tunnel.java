@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ipsec;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ipsec.tunnel.Stats;
 
 	/**
@@ -85,6 +88,16 @@ public class Tunnel {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Tunnel() {
 	}
 
@@ -107,6 +120,8 @@ public class Tunnel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -118,6 +133,8 @@ public class Tunnel {
 	 */
 	public Tunnel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -139,6 +156,8 @@ public class Tunnel {
 	 */
 	public void  setTunnelInterface(String tunnelInterface) {
 		this.tunnelInterface = tunnelInterface;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -150,6 +169,8 @@ public class Tunnel {
 	 */
 	public Tunnel withTunnelInterface(String tunnelInterface) {
 		this.tunnelInterface = tunnelInterface;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -171,6 +192,8 @@ public class Tunnel {
 	 */
 	public void  setTunneledInterface(String tunneledInterface) {
 		this.tunneledInterface = tunneledInterface;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -182,6 +205,8 @@ public class Tunnel {
 	 */
 	public Tunnel withTunneledInterface(String tunneledInterface) {
 		this.tunneledInterface = tunneledInterface;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -196,6 +221,17 @@ public class Tunnel {
 		return filters;
 	}
 
+	/**
+	 * Read the {{object|#.Filter}} instances that require this {{object}} instance to exist.  {{reference}}
+	 *
+	 * @since 2.5
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFilters() {
+		return filters == null ? Collections.emptyList() : filters;
+	}
+
 	/**
 	 * Set the {{object|#.Filter}} instances that require this {{object}} instance to exist.  {{reference}}
 	 *
@@ -204,6 +240,7 @@ public class Tunnel {
 	 */
 	public void  setFilters(Collection<String> filters) {
 		this.filters = filters;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -215,6 +252,7 @@ public class Tunnel {
 	 */
 	public Tunnel withFilters(String string) {
 		getFilters().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
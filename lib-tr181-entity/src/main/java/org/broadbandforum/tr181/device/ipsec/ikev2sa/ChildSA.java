@@ -21,10 +21,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.ipsec.ikev2sa.childsa.Stats;
 
 	/**
@@ -74,6 +78,7 @@ public class ChildSA {
 	 * @since 2.5
 	 */
 	@XmlElement(name = "CreationTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime creationTime;
 	/**
 	 * Statistics for this child Security Association (SA).
@@ -83,6 +88,16 @@ public class ChildSA {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ChildSA() {
 	}
 
@@ -105,6 +120,7 @@ public class ChildSA {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -116,6 +132,7 @@ public class ChildSA {
 	 */
 	public ChildSA withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -137,6 +154,7 @@ public class ChildSA {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -148,6 +166,7 @@ public class ChildSA {
 	 */
 	public ChildSA withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -169,6 +188,8 @@ public class ChildSA {
 	 */
 	public void  setInboundSPI(Long inboundSPI) {
 		this.inboundSPI = inboundSPI;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -180,6 +201,8 @@ public class ChildSA {
 	 */
 	public ChildSA withInboundSPI(Long inboundSPI) {
 		this.inboundSPI = inboundSPI;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -201,6 +224,8 @@ public class ChildSA {
 	 */
 	public void  setOutboundSPI(Long outboundSPI) {
 		this.outboundSPI = outboundSPI;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -212,6 +237,8 @@ public class ChildSA {
 	 */
 	public ChildSA withOutboundSPI(Long outboundSPI) {
 		this.outboundSPI = outboundSPI;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -233,6 +260,7 @@ public class ChildSA {
 	 */
 	public void  setCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -244,6 +272,7 @@ public class ChildSA {
 	 */
 	public ChildSA withCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
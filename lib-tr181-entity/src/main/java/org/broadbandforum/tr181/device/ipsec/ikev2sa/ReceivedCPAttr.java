@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This is a transitory table that lists all the IKEv2 Configuration Payload (CP) {{bibref|RFC5996|Section 3.15}} Attributes that have been received via CFG_REPLY messages.  Table entries are automatically created to correspond with received Attributes. However, it is a local matter to the CPE when to delete old table entries.
@@ -52,6 +53,11 @@ public class ReceivedCPAttr {
 	@XmlElement(name = "Value")
 	public byte[] value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ReceivedCPAttr() {
 	}
 
@@ -74,6 +80,7 @@ public class ReceivedCPAttr {
 	 */
 	public void  setType(Long type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -85,6 +92,7 @@ public class ReceivedCPAttr {
 	 */
 	public ReceivedCPAttr withType(Long type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -106,6 +114,7 @@ public class ReceivedCPAttr {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -117,6 +126,7 @@ public class ReceivedCPAttr {
 	 */
 	public ReceivedCPAttr withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -102,6 +103,11 @@ public class Stats {
 	@XmlElement(name = "OtherReceiveErrors")
 	public StatsCounter32 otherReceiveErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -124,6 +130,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +142,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +164,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -167,6 +176,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -188,6 +198,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -199,6 +210,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -220,6 +232,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +244,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -256,6 +270,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -269,6 +284,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -294,6 +310,7 @@ public class Stats {
 	 */
 	public void  setDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -307,6 +324,7 @@ public class Stats {
 	 */
 	public Stats withDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -332,6 +350,7 @@ public class Stats {
 	 */
 	public void  setIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -345,6 +364,7 @@ public class Stats {
 	 */
 	public Stats withIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -370,6 +390,7 @@ public class Stats {
 	 */
 	public void  setOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -383,6 +404,7 @@ public class Stats {
 	 */
 	public Stats withOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
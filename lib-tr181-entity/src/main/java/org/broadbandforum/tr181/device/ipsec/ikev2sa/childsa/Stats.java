@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -108,6 +109,11 @@ public class Stats {
 	@XmlElement(name = "OtherReceiveErrors")
 	public StatsCounter32 otherReceiveErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -130,6 +136,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -141,6 +148,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -162,6 +170,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -173,6 +182,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -194,6 +204,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -205,6 +216,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -226,6 +238,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -237,6 +250,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -258,6 +272,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -269,6 +284,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -290,6 +306,7 @@ public class Stats {
 	 */
 	public void  setDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -301,6 +318,7 @@ public class Stats {
 	 */
 	public Stats withDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -322,6 +340,7 @@ public class Stats {
 	 */
 	public void  setIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -333,6 +352,7 @@ public class Stats {
 	 */
 	public Stats withIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -354,6 +374,7 @@ public class Stats {
 	 */
 	public void  setReplayErrors(StatsCounter32 replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -365,6 +386,7 @@ public class Stats {
 	 */
 	public Stats withReplayErrors(StatsCounter32 replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -386,6 +408,7 @@ public class Stats {
 	 */
 	public void  setPolicyErrors(StatsCounter32 policyErrors) {
 		this.policyErrors = policyErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -397,6 +420,7 @@ public class Stats {
 	 */
 	public Stats withPolicyErrors(StatsCounter32 policyErrors) {
 		this.policyErrors = policyErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -418,6 +442,7 @@ public class Stats {
 	 */
 	public void  setOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -429,6 +454,7 @@ public class Stats {
 	 */
 	public Stats withOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
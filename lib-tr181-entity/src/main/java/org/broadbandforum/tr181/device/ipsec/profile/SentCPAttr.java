@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each instance of this object represents an IKEv2 Configuration Payload (CP) {{bibref|RFC5996|Section 3.15}} Attribute that MUST, if enabled, be sent in IKEv2 CP CFG_REQUEST messages.  All such Attributes MUST be listed.
@@ -72,6 +74,16 @@ public class SentCPAttr {
 	@CWMPParameter(access = "readWrite")
 	public byte[] value;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SentCPAttr() {
 	}
 
@@ -94,6 +106,7 @@ public class SentCPAttr {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -105,6 +118,7 @@ public class SentCPAttr {
 	 */
 	public SentCPAttr withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -126,6 +140,8 @@ public class SentCPAttr {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -137,6 +153,8 @@ public class SentCPAttr {
 	 */
 	public SentCPAttr withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -158,6 +176,8 @@ public class SentCPAttr {
 	 */
 	public void  setType(Long type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +189,8 @@ public class SentCPAttr {
 	 */
 	public SentCPAttr withType(Long type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -190,6 +212,7 @@ public class SentCPAttr {
 	 */
 	public void  setValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -201,6 +224,7 @@ public class SentCPAttr {
 	 */
 	public SentCPAttr withValue(byte[] value) {
 		this.value = value;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 
 	/**
@@ -74,6 +75,11 @@ public class Stats {
 	@XmlElement(name = "OtherReceiveErrors")
 	public StatsCounter32 otherReceiveErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -96,6 +102,7 @@ public class Stats {
 	 */
 	public void  setDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -107,6 +114,7 @@ public class Stats {
 	 */
 	public Stats withDecryptionErrors(StatsCounter32 decryptionErrors) {
 		this.decryptionErrors = decryptionErrors;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -128,6 +136,7 @@ public class Stats {
 	 */
 	public void  setIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -139,6 +148,7 @@ public class Stats {
 	 */
 	public Stats withIntegrityErrors(StatsCounter32 integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -160,6 +170,7 @@ public class Stats {
 	 */
 	public void  setReplayErrors(StatsCounter32 replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -171,6 +182,7 @@ public class Stats {
 	 */
 	public Stats withReplayErrors(StatsCounter32 replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -192,6 +204,7 @@ public class Stats {
 	 */
 	public void  setPolicyErrors(StatsCounter32 policyErrors) {
 		this.policyErrors = policyErrors;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -203,6 +216,7 @@ public class Stats {
 	 */
 	public Stats withPolicyErrors(StatsCounter32 policyErrors) {
 		this.policyErrors = policyErrors;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -224,6 +238,7 @@ public class Stats {
 	 */
 	public void  setOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -235,6 +250,7 @@ public class Stats {
 	 */
 	public Stats withOtherReceiveErrors(StatsCounter32 otherReceiveErrors) {
 		this.otherReceiveErrors = otherReceiveErrors;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -25,8 +25,10 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
 import org.broadbandforum.common.IPv6Prefix;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * 6rd {{bibref|RFC5969}} settings.
@@ -145,6 +147,16 @@ public class InterfaceSetting {
 	@Size(max = 256)
 	public String tunneledInterface;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterfaceSetting() {
 	}
 
@@ -167,6 +179,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -178,6 +191,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -203,6 +217,7 @@ public class InterfaceSetting {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -216,6 +231,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -237,6 +253,8 @@ public class InterfaceSetting {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -248,6 +266,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -269,6 +289,7 @@ public class InterfaceSetting {
 	 */
 	public void  setBorderRelayIPv4Addresses(IPv4Address borderRelayIPv4Addresses) {
 		this.borderRelayIPv4Addresses = borderRelayIPv4Addresses;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -280,6 +301,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withBorderRelayIPv4Addresses(IPv4Address borderRelayIPv4Addresses) {
 		this.borderRelayIPv4Addresses = borderRelayIPv4Addresses;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -301,6 +323,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAllTrafficToBorderRelay(Boolean allTrafficToBorderRelay) {
 		this.allTrafficToBorderRelay = allTrafficToBorderRelay;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -312,6 +335,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAllTrafficToBorderRelay(Boolean allTrafficToBorderRelay) {
 		this.allTrafficToBorderRelay = allTrafficToBorderRelay;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -333,6 +357,7 @@ public class InterfaceSetting {
 	 */
 	public void  setSpiPv6Prefix(IPv6Prefix spiPv6Prefix) {
 		this.spiPv6Prefix = spiPv6Prefix;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -344,6 +369,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withSpiPv6Prefix(IPv6Prefix spiPv6Prefix) {
 		this.spiPv6Prefix = spiPv6Prefix;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -373,6 +399,7 @@ public class InterfaceSetting {
 	 */
 	public void  setIpv4MaskLength(Long ipv4MaskLength) {
 		this.ipv4MaskLength = ipv4MaskLength;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -388,6 +415,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withIpv4MaskLength(Long ipv4MaskLength) {
 		this.ipv4MaskLength = ipv4MaskLength;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -409,6 +437,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -420,6 +449,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAddressSource(String addressSource) {
 		this.addressSource = addressSource;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -453,6 +483,7 @@ public class InterfaceSetting {
 	 */
 	public void  setTunnelInterface(String tunnelInterface) {
 		this.tunnelInterface = tunnelInterface;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -470,6 +501,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withTunnelInterface(String tunnelInterface) {
 		this.tunnelInterface = tunnelInterface;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -499,6 +531,7 @@ public class InterfaceSetting {
 	 */
 	public void  setTunneledInterface(String tunneledInterface) {
 		this.tunneledInterface = tunneledInterface;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -514,6 +547,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withTunneledInterface(String tunneledInterface) {
 		this.tunneledInterface = tunneledInterface;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
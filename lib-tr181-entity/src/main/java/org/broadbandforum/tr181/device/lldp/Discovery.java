@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.lldp;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.lldp.discovery.Device;
 
 	/**
@@ -56,10 +57,20 @@ public class Discovery {
 	 * @return the value
 	 */
 	public Collection<Device> getDevices() {
-		if (this.devices == null){ this.devices=new ArrayList<>();}
+		if (!(this.devices instanceof InstanceTable)){ this.devices=InstanceTable.of(this.devices);}
 		return devices;
 	}
 
+	/**
+	 * Read the this table contains information about discovered LLDP devices.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Device> viewDevices() {
+		return devices == null ? Collections.emptyList() : devices;
+	}
+
 	/**
 	 * Set the this table contains information about discovered LLDP devices.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.lldp.discovery;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.lldp.discovery.device.DeviceInformation;
 import org.broadbandforum.tr181.device.lldp.discovery.device.Port;
 
@@ -111,6 +114,16 @@ public class Device {
 	@XmlElement(name = "DeviceInformation")
 	public DeviceInformation deviceInformation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Device() {
 	}
 
@@ -133,6 +146,7 @@ public class Device {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -144,6 +158,7 @@ public class Device {
 	 */
 	public Device with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -205,6 +220,8 @@ public class Device {
 	 */
 	public void  setChassisIDSubtype(Long chassisIDSubtype) {
 		this.chassisIDSubtype = chassisIDSubtype;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -236,6 +253,8 @@ public class Device {
 	 */
 	public Device withChassisIDSubtype(Long chassisIDSubtype) {
 		this.chassisIDSubtype = chassisIDSubtype;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -261,6 +280,8 @@ public class Device {
 	 */
 	public void  setChassisID(String chassisID) {
 		this.chassisID = chassisID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -274,6 +295,8 @@ public class Device {
 	 */
 	public Device withChassisID(String chassisID) {
 		this.chassisID = chassisID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -290,6 +313,19 @@ public class Device {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}}Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this device.
+
+          When the entries are added to or removed from the Host tables, the value of this parameter MUST be updated accordingly.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}}Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this device.
 
@@ -300,6 +336,7 @@ public class Device {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -313,6 +350,7 @@ public class Device {
 	 */
 	public Device withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -322,10 +360,20 @@ public class Device {
 	 * @return the value
 	 */
 	public Collection<Port> getPorts() {
-		if (this.ports == null){ this.ports=new ArrayList<>();}
+		if (!(this.ports instanceof InstanceTable)){ this.ports=InstanceTable.of(this.ports);}
 		return ports;
 	}
 
+	/**
+	 * Read the this table contains information about ports on discovered LLDP devices.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Port> viewPorts() {
+		return ports == null ? Collections.emptyList() : ports;
+	}
+
 	/**
 	 * Set the this table contains information about ports on discovered LLDP devices.
 	 *
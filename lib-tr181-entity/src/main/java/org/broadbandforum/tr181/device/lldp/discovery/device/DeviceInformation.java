@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.lldp.discovery.device;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.lldp.discovery.device.deviceinformation.VendorSpecific;
 
 	/**
@@ -94,6 +97,11 @@ public class DeviceInformation {
 	@XmlElement(name = "VendorSpecific")
 	public Collection<VendorSpecific> vendorSpecifics;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DeviceInformation() {
 	}
 
@@ -111,6 +119,19 @@ public class DeviceInformation {
 		return deviceCategory;
 	}
 
+	/**
+	 * Read the each list item indicates a device category (e.g."AV_TV" and "AV_Recorder"), or the value is {{empty}} if no device categories were provided.
+
+          Note: It is assumed that this list might be used for HTIP (Home-network Topology Identifying Protocol) {{bibref|JJ-300.00}} and {{bibref|G.9973}}. Standard HTIP device categories are defined in {{bibref|JJ-300.01}}. In this case, the maximum length of the list is 127 and of each item is 31, and any non-HTIP device categories SHOULD NOT conflict with standard HTIP device categories.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDeviceCategory() {
+		return deviceCategory == null ? Collections.emptyList() : deviceCategory;
+	}
+
 	/**
 	 * Set the each list item indicates a device category (e.g."AV_TV" and "AV_Recorder"), or the value is {{empty}} if no device categories were provided.
 
@@ -121,6 +142,7 @@ public class DeviceInformation {
 	 */
 	public void  setDeviceCategory(Collection<String> deviceCategory) {
 		this.deviceCategory = deviceCategory;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +156,7 @@ public class DeviceInformation {
 	 */
 	public DeviceInformation withDeviceCategory(String string) {
 		getDeviceCategory().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -159,6 +182,7 @@ public class DeviceInformation {
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -172,6 +196,7 @@ public class DeviceInformation {
 	 */
 	public DeviceInformation withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -197,6 +222,7 @@ public class DeviceInformation {
 	 */
 	public void  setModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +236,7 @@ public class DeviceInformation {
 	 */
 	public DeviceInformation withModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -235,6 +262,7 @@ public class DeviceInformation {
 	 */
 	public void  setModelNumber(String modelNumber) {
 		this.modelNumber = modelNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -248,6 +276,7 @@ public class DeviceInformation {
 	 */
 	public DeviceInformation withModelNumber(String modelNumber) {
 		this.modelNumber = modelNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -261,10 +290,24 @@ public class DeviceInformation {
 	 * @return the value
 	 */
 	public Collection<VendorSpecific> getVendorSpecifics() {
-		if (this.vendorSpecifics == null){ this.vendorSpecifics=new ArrayList<>();}
+		if (!(this.vendorSpecifics instanceof InstanceTable)){ this.vendorSpecifics=InstanceTable.of(this.vendorSpecifics);}
 		return vendorSpecifics;
 	}
 
+	/**
+	 * Read the vendor-specific device information, which is included in the value of the ''LLDPDU's'' Organizationally Specific TLV (TLV Type = 127). 
+
+        {{keys}}
+
+        Note: It is assumed that this object might be used for HTIP (Home-network Topology Identifying Protocol) {{bibref|JJ-300.00}} and {{bibref|G.9973}}. In this case, this table contains the Organizationally Specific TLV (TLV Type = 127) of ''LLDPDU'', in which the {{bibref|OUI}} in the third octet is E0271A (''TTC-OUI''), the organizationally defined subtype in the sixth octet is 1 (''Device Information''), and the device information ID in the seventh octet is 255 (''Vendor-specific extension field'').
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VendorSpecific> viewVendorSpecifics() {
+		return vendorSpecifics == null ? Collections.emptyList() : vendorSpecifics;
+	}
+
 	/**
 	 * Set the vendor-specific device information, which is included in the value of the ''LLDPDU's'' Organizationally Specific TLV (TLV Type = 127). 
 
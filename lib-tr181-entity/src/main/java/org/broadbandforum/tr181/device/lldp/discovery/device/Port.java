@@ -22,9 +22,13 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.lldp.discovery.device.port.LinkInformation;
 
 	/**
@@ -109,6 +113,7 @@ public class Port {
 	 * @since 2.8
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdate;
 	/**
 	 * The port's link information, which is included in the value of the ''LLDPDU's'' Organizationally Specific TLV (TLV Type = 127).
@@ -118,6 +123,16 @@ public class Port {
 	@XmlElement(name = "LinkInformation")
 	public LinkInformation linkInformation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Port() {
 	}
 
@@ -176,6 +191,8 @@ public class Port {
 	 */
 	public void  setPortIDSubtype(Long portIDSubtype) {
 		this.portIDSubtype = portIDSubtype;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +222,8 @@ public class Port {
 	 */
 	public Port withPortIDSubtype(Long portIDSubtype) {
 		this.portIDSubtype = portIDSubtype;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -226,6 +245,8 @@ public class Port {
 	 */
 	public void  setPortID(String portID) {
 		this.portID = portID;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -237,6 +258,8 @@ public class Port {
 	 */
 	public Port withPortID(String portID) {
 		this.portID = portID;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -262,6 +285,7 @@ public class Port {
 	 */
 	public void  setTtl(Long ttl) {
 		this.ttl = ttl;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -275,6 +299,7 @@ public class Port {
 	 */
 	public Port withTtl(Long ttl) {
 		this.ttl = ttl;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -300,6 +325,7 @@ public class Port {
 	 */
 	public void  setPortDescription(String portDescription) {
 		this.portDescription = portDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -313,6 +339,7 @@ public class Port {
 	 */
 	public Port withPortDescription(String portDescription) {
 		this.portDescription = portDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -342,6 +369,7 @@ public class Port {
 	 */
 	public void  setMacAddressList(MACAddress macAddressList) {
 		this.macAddressList = macAddressList;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -357,6 +385,7 @@ public class Port {
 	 */
 	public Port withMacAddressList(MACAddress macAddressList) {
 		this.macAddressList = macAddressList;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -378,6 +407,7 @@ public class Port {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -389,6 +419,7 @@ public class Port {
 	 */
 	public Port withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The vendor-specific device information, which is included in the value of the ''LLDPDU's'' Organizationally Specific TLV (TLV Type = 127). 
@@ -66,6 +68,16 @@ public class VendorSpecific {
 	@Size(max = 248)
 	public String information;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VendorSpecific() {
 	}
 
@@ -88,6 +100,8 @@ public class VendorSpecific {
 	 */
 	public void  setOrganizationCode(String organizationCode) {
 		this.organizationCode = organizationCode;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -99,6 +113,8 @@ public class VendorSpecific {
 	 */
 	public VendorSpecific withOrganizationCode(String organizationCode) {
 		this.organizationCode = organizationCode;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -120,6 +136,8 @@ public class VendorSpecific {
 	 */
 	public void  setInformationType(Long informationType) {
 		this.informationType = informationType;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -131,6 +149,8 @@ public class VendorSpecific {
 	 */
 	public VendorSpecific withInformationType(Long informationType) {
 		this.informationType = informationType;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -152,6 +172,7 @@ public class VendorSpecific {
 	 */
 	public void  setInformation(String information) {
 		this.information = information;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -163,6 +184,7 @@ public class VendorSpecific {
 	 */
 	public VendorSpecific withInformation(String information) {
 		this.information = information;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
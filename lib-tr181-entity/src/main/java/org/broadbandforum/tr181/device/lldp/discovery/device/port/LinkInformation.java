@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -63,6 +64,11 @@ public class LinkInformation {
 	@XmlElement(name = "MACForwardingTable")
 	public MACAddress macForwardingTable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LinkInformation() {
 	}
 
@@ -109,6 +115,7 @@ public class LinkInformation {
 	 */
 	public void  setInterfaceType(Long interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -132,6 +139,7 @@ public class LinkInformation {
 	 */
 	public LinkInformation withInterfaceType(Long interfaceType) {
 		this.interfaceType = interfaceType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -153,6 +161,7 @@ public class LinkInformation {
 	 */
 	public void  setMacForwardingTable(MACAddress macForwardingTable) {
 		this.macForwardingTable = macForwardingTable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -164,6 +173,7 @@ public class LinkInformation {
 	 */
 	public LinkInformation withMacForwardingTable(MACAddress macForwardingTable) {
 		this.macForwardingTable = macForwardingTable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
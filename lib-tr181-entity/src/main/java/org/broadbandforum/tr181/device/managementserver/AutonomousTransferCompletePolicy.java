@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.managementserver;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object allows configuration of CPE policy for notification of AUTONOMOUS TRANSFER COMPLETE events, defined in {{bibref|TR-069a2}}.
@@ -89,6 +91,11 @@ public class AutonomousTransferCompletePolicy {
 	@XmlList
 	public Collection<String> fileTypeFilter;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AutonomousTransferCompletePolicy() {
 	}
 
@@ -111,6 +118,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +130,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public AutonomousTransferCompletePolicy withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -147,6 +156,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public void  setTransferTypeFilter(String transferTypeFilter) {
 		this.transferTypeFilter = transferTypeFilter;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -160,6 +170,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public AutonomousTransferCompletePolicy withTransferTypeFilter(String transferTypeFilter) {
 		this.transferTypeFilter = transferTypeFilter;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -185,6 +196,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public void  setResultTypeFilter(String resultTypeFilter) {
 		this.resultTypeFilter = resultTypeFilter;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -198,6 +210,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public AutonomousTransferCompletePolicy withResultTypeFilter(String resultTypeFilter) {
 		this.resultTypeFilter = resultTypeFilter;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -222,6 +235,27 @@ public class AutonomousTransferCompletePolicy {
 		return fileTypeFilter;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the file types that MUST be included when the CPE notifies the ACS of AUTONOMOUS TRANSFER COMPLETE events.  File types omitted from this list MUST NOT be included when the CPE notifies the ACS.
+
+          {{pattern}}
+
+          Additionally, the following format is defined to allow the unique definition of vendor-specific file types:
+
+          * ''"X <OUI> <Vendor-specific identifier>"''
+
+          <OUI> is replaced by a 6 hexadecimal-digit OUI (organizationally unique identifier) as defined in {{bibref|OUI}}, with all upper-case letters and any leading zeros included. The OUI used for a given vendor-specific file type MUST be one that is assigned to the organization that defined this file type (which is not necessarily the same as the vendor of the CPE or ACS).
+
+          Note that {{empty}} indicates that all file types are excluded from this filter, effectively disabling CPE notification of AUTONOMOUS TRANSFER COMPLETE events to the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFileTypeFilter() {
+		return fileTypeFilter == null ? Collections.emptyList() : fileTypeFilter;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the file types that MUST be included when the CPE notifies the ACS of AUTONOMOUS TRANSFER COMPLETE events.  File types omitted from this list MUST NOT be included when the CPE notifies the ACS.
 
@@ -240,6 +274,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public void  setFileTypeFilter(Collection<String> fileTypeFilter) {
 		this.fileTypeFilter = fileTypeFilter;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +296,7 @@ public class AutonomousTransferCompletePolicy {
 	 */
 	public AutonomousTransferCompletePolicy withFileTypeFilter(String string) {
 		getFileTypeFilter().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
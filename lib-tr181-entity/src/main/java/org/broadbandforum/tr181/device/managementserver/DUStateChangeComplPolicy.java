@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.managementserver;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object allows configuration of CPE policy for notification of "12 AUTONOMOUS DU STATE CHANGE COMPLETE" events defined in {{bibref|TR-069a3}}.  
@@ -78,6 +80,11 @@ public class DUStateChangeComplPolicy {
 	@XmlList
 	public Collection<String> faultCodeFilter;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DUStateChangeComplPolicy() {
 	}
 
@@ -100,6 +107,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +119,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public DUStateChangeComplPolicy withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -127,6 +136,19 @@ public class DUStateChangeComplPolicy {
 		return operationTypeFilter;
 	}
 
+	/**
+	 * Read the indicates the Deployment Unit operations that MUST be included when the CPE notifies the ACS of "12 AUTONOMOUS DU STATE CHANGE COMPLETE" events.  
+
+          Operation types not indicated by this list MUST NOT be included when the CPE notifies the ACS.  {{empty}} is essentially the same as setting {{param|Enable}} to {{false}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOperationTypeFilter() {
+		return operationTypeFilter == null ? Collections.emptyList() : operationTypeFilter;
+	}
+
 	/**
 	 * Set the indicates the Deployment Unit operations that MUST be included when the CPE notifies the ACS of "12 AUTONOMOUS DU STATE CHANGE COMPLETE" events.  
 
@@ -137,6 +159,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public void  setOperationTypeFilter(Collection<String> operationTypeFilter) {
 		this.operationTypeFilter = operationTypeFilter;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -150,6 +173,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public DUStateChangeComplPolicy withOperationTypeFilter(String string) {
 		getOperationTypeFilter().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -171,6 +195,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public void  setResultTypeFilter(String resultTypeFilter) {
 		this.resultTypeFilter = resultTypeFilter;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -182,6 +207,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public DUStateChangeComplPolicy withResultTypeFilter(String resultTypeFilter) {
 		this.resultTypeFilter = resultTypeFilter;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -198,6 +224,19 @@ public class DUStateChangeComplPolicy {
 		return faultCodeFilter;
 	}
 
+	/**
+	 * Read the indicates the Deployment Unit state change fault codes that MUST be included when the CPE notifies the ACS of "12 AUTONOMOUS DU STATE CHANGE COMPLETE" events.  State change fault codes omitted from this filter MUST NOT be included when the CPE notifies the ACS.
+
+          This filter has no effect on the notification of a successful autonomous state change. This filter only applies when {{param|ResultTypeFilter}} is set to either {{enum|Failure|ResultTypeFilter}} or {{enum|Both|ResultTypeFilter}}.  {{empty}} means that failed autonomous state changes will not be sent to the ACS.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFaultCodeFilter() {
+		return faultCodeFilter == null ? Collections.emptyList() : faultCodeFilter;
+	}
+
 	/**
 	 * Set the indicates the Deployment Unit state change fault codes that MUST be included when the CPE notifies the ACS of "12 AUTONOMOUS DU STATE CHANGE COMPLETE" events.  State change fault codes omitted from this filter MUST NOT be included when the CPE notifies the ACS.
 
@@ -208,6 +247,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public void  setFaultCodeFilter(Collection<String> faultCodeFilter) {
 		this.faultCodeFilter = faultCodeFilter;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -221,6 +261,7 @@ public class DUStateChangeComplPolicy {
 	 */
 	public DUStateChangeComplPolicy withFaultCodeFilter(String string) {
 		getFaultCodeFilter().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
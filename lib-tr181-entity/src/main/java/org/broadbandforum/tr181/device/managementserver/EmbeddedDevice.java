@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.managementserver;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +26,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Each entry in this table represents a distinct Proxied Device that utilizes the Embedded Object Mechanism {{bibref|TR-069a4|Annex J.1.2}} for proxying devices.
@@ -158,8 +163,19 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 * @since 2.3
 	 */
 	@XmlElement(name = "LastSyncTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastSyncTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public EmbeddedDevice() {
 	}
 
@@ -194,6 +210,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setControllerID(String controllerID) {
 		this.controllerID = controllerID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -211,6 +229,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withControllerID(String controllerID) {
 		this.controllerID = controllerID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -236,6 +256,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setProxiedDeviceID(String proxiedDeviceID) {
 		this.proxiedDeviceID = proxiedDeviceID;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -249,6 +271,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withProxiedDeviceID(String proxiedDeviceID) {
 		this.proxiedDeviceID = proxiedDeviceID;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -270,6 +294,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -281,6 +306,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -295,6 +321,17 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 		return supportedDataModel;
 	}
 
+	/**
+	 * Read the represents the CWMP-DT schema instance(s) that this Proxied Device is utilizing.  The CWMP-DT schema instance is also the one being utilized by the object referenced within {{param|Reference}}.
+	 *
+	 * @since 2.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedDataModel() {
+		return supportedDataModel == null ? Collections.emptyList() : supportedDataModel;
+	}
+
 	/**
 	 * Set the represents the CWMP-DT schema instance(s) that this Proxied Device is utilizing.  The CWMP-DT schema instance is also the one being utilized by the object referenced within {{param|Reference}}.
 	 *
@@ -303,6 +340,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setSupportedDataModel(Collection<String> supportedDataModel) {
 		this.supportedDataModel = supportedDataModel;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -314,6 +352,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withSupportedDataModel(String string) {
 		getSupportedDataModel().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -328,6 +367,17 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 		return host;
 	}
 
+	/**
+	 * Read the references the {{object|.Hosts.Host}} table entry(s), whether active or inactive, that corresponds to this proxied LAN device.
+	 *
+	 * @since 2.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the references the {{object|.Hosts.Host}} table entry(s), whether active or inactive, that corresponds to this proxied LAN device.
 	 *
@@ -336,6 +386,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -347,6 +398,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -372,6 +424,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setProxyProtocol(String proxyProtocol) {
 		this.proxyProtocol = proxyProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -385,6 +438,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withProxyProtocol(String proxyProtocol) {
 		this.proxyProtocol = proxyProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -406,6 +460,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setProxyProtocolReference(String proxyProtocolReference) {
 		this.proxyProtocolReference = proxyProtocolReference;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -417,6 +472,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withProxyProtocolReference(String proxyProtocolReference) {
 		this.proxyProtocolReference = proxyProtocolReference;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -437,6 +493,23 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 		return discoveryProtocol;
 	}
 
+	/**
+	 * Read the {{list|that represents the discovery protocol(s) for this proxied device}}
+
+          
+
+Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
+
+          Vendors can extend the enumerated values with vendor specific extensions, in which case the rules outlined in {{bibref|TR-106a3|Section 3.3}} MUST be adhered to.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDiscoveryProtocol() {
+		return discoveryProtocol == null ? Collections.emptyList() : discoveryProtocol;
+	}
+
 	/**
 	 * Set the {{list|that represents the discovery protocol(s) for this proxied device}}
 
@@ -451,6 +524,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setDiscoveryProtocol(Collection<String> discoveryProtocol) {
 		this.discoveryProtocol = discoveryProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -468,6 +542,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withDiscoveryProtocol(String string) {
 		getDiscoveryProtocol().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -492,6 +567,27 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 		return discoveryProtocolReference;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an object discovered using one or more protocols listed in {{param|DiscoveryProtocol}}|ignore}}
+
+          For objects discovered by the UPnP discovery protocol, the {{param}} would contain items that are references to instances of the following:
+
+          * {{object|.UPnP.Discovery.RootDevice}}
+
+          * {{object|.UPnP.Discovery.Device}}
+
+          * {{object|.UPnP.Discovery.Service}}
+
+          For objects discovered by the ETSI-M2M discovery protocol, the {{param}} would contain items that are references to instances of ETSIM2M.SCL.{i}.AreaNwkDeviceInfoInstance.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDiscoveryProtocolReference() {
+		return discoveryProtocolReference == null ? Collections.emptyList() : discoveryProtocolReference;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an object discovered using one or more protocols listed in {{param|DiscoveryProtocol}}|ignore}}
 
@@ -510,6 +606,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setDiscoveryProtocolReference(Collection<String> discoveryProtocolReference) {
 		this.discoveryProtocolReference = discoveryProtocolReference;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -531,6 +628,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withDiscoveryProtocolReference(String string) {
 		getDiscoveryProtocolReference().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -552,6 +650,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setCommandProcessed(String commandProcessed) {
 		this.commandProcessed = commandProcessed;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -563,6 +662,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withCommandProcessed(String commandProcessed) {
 		this.commandProcessed = commandProcessed;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -584,6 +684,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setCommandProcessingErrMsg(String commandProcessingErrMsg) {
 		this.commandProcessingErrMsg = commandProcessingErrMsg;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -595,6 +696,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withCommandProcessingErrMsg(String commandProcessingErrMsg) {
 		this.commandProcessingErrMsg = commandProcessingErrMsg;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -620,6 +722,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setLastSyncTime(LocalDateTime lastSyncTime) {
 		this.lastSyncTime = lastSyncTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -633,6 +736,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public EmbeddedDevice withLastSyncTime(LocalDateTime lastSyncTime) {
 		this.lastSyncTime = lastSyncTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
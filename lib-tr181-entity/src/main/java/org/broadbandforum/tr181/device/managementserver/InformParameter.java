@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.managementserver;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table provides the ACS with the ability to control the Parameters that are delivered by the Inform RPC.
@@ -86,6 +89,16 @@ public class InformParameter {
 	@XmlList
 	public Collection<String> eventList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InformParameter() {
 	}
 
@@ -108,6 +121,7 @@ public class InformParameter {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +133,7 @@ public class InformParameter {
 	 */
 	public InformParameter withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +155,8 @@ public class InformParameter {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -151,6 +168,8 @@ public class InformParameter {
 	 */
 	public InformParameter withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -176,6 +195,8 @@ public class InformParameter {
 	 */
 	public void  setParameterName(String parameterName) {
 		this.parameterName = parameterName;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -189,6 +210,8 @@ public class InformParameter {
 	 */
 	public InformParameter withParameterName(String parameterName) {
 		this.parameterName = parameterName;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -207,6 +230,21 @@ public class InformParameter {
 		return eventList;
 	}
 
+	/**
+	 * Read the each entry in this list represents an Event for which this Parameter MUST be included within the ParameterList argument of the Inform RPC.
+
+          All Inform Events (see {{bibref|TR-069|Section 3.7.1.5}}), except for "4 VALUE CHANGE", are allowed as entries in this list.  "4 VALUE CHANGE" is not allowed as that would violate requirements contained in {{bibref|TR-069|Section A.3.3.1}}.
+
+          {{empty}} means all events except "4 VALUE CHANGE".
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEventList() {
+		return eventList == null ? Collections.emptyList() : eventList;
+	}
+
 	/**
 	 * Set the each entry in this list represents an Event for which this Parameter MUST be included within the ParameterList argument of the Inform RPC.
 
@@ -219,6 +257,7 @@ public class InformParameter {
 	 */
 	public void  setEventList(Collection<String> eventList) {
 		this.eventList = eventList;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -234,6 +273,7 @@ public class InformParameter {
 	 */
 	public InformParameter withEventList(String string) {
 		getEventList().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.managementserver;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -28,6 +29,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table corresponds to a distinct LAN Device that supports Device-Gateway Association according to {{bibref|TR-069a2|Annex F}} as indicated by the presence of the DHCP option specified in that Annex.
@@ -96,6 +99,16 @@ public class ManageableDevice {
 	@XmlList
 	public Collection<String> host;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ManageableDevice() {
 	}
 
@@ -122,6 +135,8 @@ public class ManageableDevice {
 	 */
 	public void  setAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -135,6 +150,8 @@ public class ManageableDevice {
 	 */
 	public ManageableDevice withAlias(String alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -160,6 +177,8 @@ public class ManageableDevice {
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -173,6 +192,8 @@ public class ManageableDevice {
 	 */
 	public ManageableDevice withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -194,6 +215,8 @@ public class ManageableDevice {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +228,8 @@ public class ManageableDevice {
 	 */
 	public ManageableDevice withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -230,6 +255,8 @@ public class ManageableDevice {
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -243,6 +270,8 @@ public class ManageableDevice {
 	 */
 	public ManageableDevice withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -259,6 +288,19 @@ public class ManageableDevice {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}  References all the {{object|.Hosts.Host}} table entries, whether active or inactive, that correspond to this physical LAN device.  There can be multiple such entries if the device has more than one network interface.
+
+          For example: ''Device.Hosts.Host.1,Device.Hosts.Host.5''
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}  References all the {{object|.Hosts.Host}} table entries, whether active or inactive, that correspond to this physical LAN device.  There can be multiple such entries if the device has more than one network interface.
 
@@ -269,6 +311,7 @@ public class ManageableDevice {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -282,6 +325,7 @@ public class ManageableDevice {
 	 */
 	public ManageableDevice withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Parameters related to CPE behavior when waking up from standby. If this object is supported then the CPE MUST support the requirements of {{bibref|TR-069a5|Annex L}}.
@@ -110,6 +111,11 @@ public class StandbyPolicy {
 	@CWMPParameter(access = "readWrite")
 	public Boolean scheduledAwarenessRequested;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public StandbyPolicy() {
 	}
 
@@ -136,6 +142,7 @@ public class StandbyPolicy {
 	 */
 	public void  setCrunawarenessMaxDuration(Integer crunawarenessMaxDuration) {
 		this.crunawarenessMaxDuration = crunawarenessMaxDuration;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -149,6 +156,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withCrunawarenessMaxDuration(Integer crunawarenessMaxDuration) {
 		this.crunawarenessMaxDuration = crunawarenessMaxDuration;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -174,6 +182,7 @@ public class StandbyPolicy {
 	 */
 	public void  setMaxMissedPeriodic(Integer maxMissedPeriodic) {
 		this.maxMissedPeriodic = maxMissedPeriodic;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -187,6 +196,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withMaxMissedPeriodic(Integer maxMissedPeriodic) {
 		this.maxMissedPeriodic = maxMissedPeriodic;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -208,6 +218,7 @@ public class StandbyPolicy {
 	 */
 	public void  setNotifyMissedScheduled(Boolean notifyMissedScheduled) {
 		this.notifyMissedScheduled = notifyMissedScheduled;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -219,6 +230,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withNotifyMissedScheduled(Boolean notifyMissedScheduled) {
 		this.notifyMissedScheduled = notifyMissedScheduled;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -240,6 +252,7 @@ public class StandbyPolicy {
 	 */
 	public void  setNetworkAwarenessCapable(Boolean networkAwarenessCapable) {
 		this.networkAwarenessCapable = networkAwarenessCapable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -251,6 +264,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withNetworkAwarenessCapable(Boolean networkAwarenessCapable) {
 		this.networkAwarenessCapable = networkAwarenessCapable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -272,6 +286,7 @@ public class StandbyPolicy {
 	 */
 	public void  setSelfTimerCapable(Boolean selfTimerCapable) {
 		this.selfTimerCapable = selfTimerCapable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -283,6 +298,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withSelfTimerCapable(Boolean selfTimerCapable) {
 		this.selfTimerCapable = selfTimerCapable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -304,6 +320,7 @@ public class StandbyPolicy {
 	 */
 	public void  setCrawarenessRequested(Boolean crawarenessRequested) {
 		this.crawarenessRequested = crawarenessRequested;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -315,6 +332,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withCrawarenessRequested(Boolean crawarenessRequested) {
 		this.crawarenessRequested = crawarenessRequested;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -336,6 +354,7 @@ public class StandbyPolicy {
 	 */
 	public void  setPeriodicAwarenessRequested(Boolean periodicAwarenessRequested) {
 		this.periodicAwarenessRequested = periodicAwarenessRequested;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -347,6 +366,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withPeriodicAwarenessRequested(Boolean periodicAwarenessRequested) {
 		this.periodicAwarenessRequested = periodicAwarenessRequested;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -376,6 +396,7 @@ public class StandbyPolicy {
 	 */
 	public void  setScheduledAwarenessRequested(Boolean scheduledAwarenessRequested) {
 		this.scheduledAwarenessRequested = scheduledAwarenessRequested;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -391,6 +412,7 @@ public class StandbyPolicy {
 	 */
 	public StandbyPolicy withScheduledAwarenessRequested(Boolean scheduledAwarenessRequested) {
 		this.scheduledAwarenessRequested = scheduledAwarenessRequested;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
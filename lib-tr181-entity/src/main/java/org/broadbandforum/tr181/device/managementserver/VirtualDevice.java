@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.managementserver;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each entry in this table represents a distinct Proxied Device that utilizes the Virtual CWMP Device Mechanism {{bibref|TR-069a4|Annex I.1.1}} for proxying devices.
@@ -124,6 +127,16 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	@XmlList
 	public Collection<String> discoveryProtocolReference;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VirtualDevice() {
 	}
 
@@ -150,6 +163,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -163,6 +178,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -184,6 +201,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -195,6 +214,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -216,6 +237,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -227,6 +250,8 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -241,6 +266,17 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}  References all the {{object|.Hosts.Host}} table entries, whether active or inactive, that correspond to this proxied LAN device.  There can be multiple such entries if the Proxied Device has more than one network interface.
+	 *
+	 * @since 2.3
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}  References all the {{object|.Hosts.Host}} table entries, whether active or inactive, that correspond to this proxied LAN device.  There can be multiple such entries if the Proxied Device has more than one network interface.
 	 *
@@ -249,6 +285,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -260,6 +297,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -285,6 +323,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setProxyProtocol(String proxyProtocol) {
 		this.proxyProtocol = proxyProtocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -298,6 +337,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withProxyProtocol(String proxyProtocol) {
 		this.proxyProtocol = proxyProtocol;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -319,6 +359,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setProxyProtocolReference(String proxyProtocolReference) {
 		this.proxyProtocolReference = proxyProtocolReference;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -330,6 +371,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withProxyProtocolReference(String proxyProtocolReference) {
 		this.proxyProtocolReference = proxyProtocolReference;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -350,6 +392,23 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 		return discoveryProtocol;
 	}
 
+	/**
+	 * Read the {{list|that represents the discovery protocol(s) for this proxied device}}
+
+          
+
+Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
+
+          Vendors can extend the enumerated values with vendor specific extensions, in which case the rules outlined in {{bibref|TR-106a3|Section 3.3}} MUST be adhered to.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDiscoveryProtocol() {
+		return discoveryProtocol == null ? Collections.emptyList() : discoveryProtocol;
+	}
+
 	/**
 	 * Set the {{list|that represents the discovery protocol(s) for this proxied device}}
 
@@ -364,6 +423,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setDiscoveryProtocol(Collection<String> discoveryProtocol) {
 		this.discoveryProtocol = discoveryProtocol;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -381,6 +441,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withDiscoveryProtocol(String string) {
 		getDiscoveryProtocol().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -405,6 +466,27 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 		return discoveryProtocolReference;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an object discovered using one or more protocols listed in {{param|DiscoveryProtocol}}|ignore}}
+
+          For objects discovered by the UPnP discovery protocol, the {{param}} would contain items that are references to instances of the following:
+
+          * {{object|.UPnP.Discovery.RootDevice}}
+
+          * {{object|.UPnP.Discovery.Device}}
+
+          * {{object|.UPnP.Discovery.Service}}
+
+          For objects discovered by the ETSI-M2M discovery protocol, the {{param}} would contain items that are references to instances of ETSIM2M.SCL.{i}.AreaNwkDeviceInfoInstance.
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDiscoveryProtocolReference() {
+		return discoveryProtocolReference == null ? Collections.emptyList() : discoveryProtocolReference;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an object discovered using one or more protocols listed in {{param|DiscoveryProtocol}}|ignore}}
 
@@ -423,6 +505,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public void  setDiscoveryProtocolReference(Collection<String> discoveryProtocolReference) {
 		this.discoveryProtocolReference = discoveryProtocolReference;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -444,6 +527,7 @@ Enumerated value must be one of [Z-Wave, ZigBee, UPnP, ETSI-M2M]
 	 */
 	public VirtualDevice withDiscoveryProtocolReference(String string) {
 		getDiscoveryProtocolReference().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.managementserver.downloadavailability;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.managementserver.downloadavailability.announcement.Group;
 
 	/**
@@ -61,6 +63,11 @@ public class Announcement {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Group> groups;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Announcement() {
 	}
 
@@ -83,6 +90,7 @@ public class Announcement {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -94,6 +102,7 @@ public class Announcement {
 	 */
 	public Announcement withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -115,6 +124,7 @@ public class Announcement {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -126,6 +136,7 @@ public class Announcement {
 	 */
 	public Announcement withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -135,10 +146,20 @@ public class Announcement {
 	 * @return the value
 	 */
 	public Collection<Group> getGroups() {
-		if (this.groups == null){ this.groups=new ArrayList<>();}
+		if (!(this.groups instanceof InstanceTable)){ this.groups=InstanceTable.of(this.groups);}
 		return groups;
 	}
 
+	/**
+	 * Read the multicast groups to which the CPE SHOULD listen for announcements.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Group> viewGroups() {
+		return groups == null ? Collections.emptyList() : groups;
+	}
+
 	/**
 	 * Set the multicast groups to which the CPE SHOULD listen for announcements.
 	 *
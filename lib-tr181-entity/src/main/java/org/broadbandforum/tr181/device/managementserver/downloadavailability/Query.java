@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains multicast query parameters used to download files.
@@ -64,6 +65,11 @@ public class Query {
 	@Size(max = 256)
 	public String url;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Query() {
 	}
 
@@ -86,6 +92,7 @@ public class Query {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -97,6 +104,7 @@ public class Query {
 	 */
 	public Query withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -118,6 +126,7 @@ public class Query {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -129,6 +138,7 @@ public class Query {
 	 */
 	public Query withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -158,6 +168,7 @@ public class Query {
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -173,6 +184,7 @@ public class Query {
 	 */
 	public Query withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
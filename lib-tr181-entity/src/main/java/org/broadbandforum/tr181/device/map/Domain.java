@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.map;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +28,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Prefix;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.map.domain.Interface;
 import org.broadbandforum.tr181.device.map.domain.Rule;
 
@@ -200,6 +202,16 @@ public class Domain {
 	@XmlElement(name = "Interface")
 	public Interface _interface;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Domain() {
 	}
 
@@ -222,6 +234,7 @@ public class Domain {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -233,6 +246,7 @@ public class Domain {
 	 */
 	public Domain withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -258,6 +272,7 @@ public class Domain {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -271,6 +286,7 @@ public class Domain {
 	 */
 	public Domain withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -292,6 +308,8 @@ public class Domain {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -303,6 +321,8 @@ public class Domain {
 	 */
 	public Domain withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -328,6 +348,7 @@ public class Domain {
 	 */
 	public void  setTransportMode(String transportMode) {
 		this.transportMode = transportMode;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -341,6 +362,7 @@ public class Domain {
 	 */
 	public Domain withTransportMode(String transportMode) {
 		this.transportMode = transportMode;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -370,6 +392,8 @@ public class Domain {
 	 */
 	public void  setWanInterface(String wanInterface) {
 		this.wanInterface = wanInterface;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -385,6 +409,8 @@ public class Domain {
 	 */
 	public Domain withWanInterface(String wanInterface) {
 		this.wanInterface = wanInterface;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -410,6 +436,8 @@ public class Domain {
 	 */
 	public void  setIpv6Prefix(String ipv6Prefix) {
 		this.ipv6Prefix = ipv6Prefix;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -423,6 +451,8 @@ public class Domain {
 	 */
 	public Domain withIpv6Prefix(String ipv6Prefix) {
 		this.ipv6Prefix = ipv6Prefix;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -456,6 +486,7 @@ public class Domain {
 	 */
 	public void  setBriPv6Prefix(IPv6Prefix briPv6Prefix) {
 		this.briPv6Prefix = briPv6Prefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -473,6 +504,7 @@ public class Domain {
 	 */
 	public Domain withBriPv6Prefix(IPv6Prefix briPv6Prefix) {
 		this.briPv6Prefix = briPv6Prefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -510,6 +542,7 @@ public class Domain {
 	 */
 	public void  setDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -529,6 +562,7 @@ public class Domain {
 	 */
 	public Domain withDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -554,6 +588,7 @@ public class Domain {
 	 */
 	public void  setPsiDOffset(Long psiDOffset) {
 		this.psiDOffset = psiDOffset;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -567,6 +602,7 @@ public class Domain {
 	 */
 	public Domain withPsiDOffset(Long psiDOffset) {
 		this.psiDOffset = psiDOffset;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -592,6 +628,7 @@ public class Domain {
 	 */
 	public void  setPsiDLength(Long psiDLength) {
 		this.psiDLength = psiDLength;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -605,6 +642,7 @@ public class Domain {
 	 */
 	public Domain withPsiDLength(Long psiDLength) {
 		this.psiDLength = psiDLength;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -634,6 +672,7 @@ public class Domain {
 	 */
 	public void  setPsiD(Long psiD) {
 		this.psiD = psiD;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -649,6 +688,7 @@ public class Domain {
 	 */
 	public Domain withPsiD(Long psiD) {
 		this.psiD = psiD;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -674,6 +714,7 @@ public class Domain {
 	 */
 	public void  setIncludeSystemPorts(Boolean includeSystemPorts) {
 		this.includeSystemPorts = includeSystemPorts;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -687,6 +728,7 @@ public class Domain {
 	 */
 	public Domain withIncludeSystemPorts(Boolean includeSystemPorts) {
 		this.includeSystemPorts = includeSystemPorts;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -696,10 +738,20 @@ public class Domain {
 	 * @return the value
 	 */
 	public Collection<Rule> getRules() {
-		if (this.rules == null){ this.rules=new ArrayList<>();}
+		if (!(this.rules instanceof InstanceTable)){ this.rules=InstanceTable.of(this.rules);}
 		return rules;
 	}
 
+	/**
+	 * Read the MAP domain's Mapping Rules {{bibref|RFC7597}}. The rule with the longest match between its {{param|IPv6Prefix}} and the end-user {{param|#.IPv6Prefix}} is the Basic Mapping Rule (BMR). Any of the rules (including the BMR) can be a Forwarding Mapping Rule.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Rule> viewRules() {
+		return rules == null ? Collections.emptyList() : rules;
+	}
+
 	/**
 	 * Set the MAP domain's Mapping Rules {{bibref|RFC7597}}. The rule with the longest match between its {{param|IPv6Prefix}} and the end-user {{param|#.IPv6Prefix}} is the Basic Mapping Rule (BMR). Any of the rules (including the BMR) can be a Forwarding Mapping Rule.
 	 *
@@ -25,8 +25,10 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Prefix;
 import org.broadbandforum.common.IPv6Prefix;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The MAP domain's Mapping Rules {{bibref|RFC7597}}. The rule with the longest match between its {{param|IPv6Prefix}} and the end-user {{param|#.IPv6Prefix}} is the Basic Mapping Rule (BMR). Any of the rules (including the BMR) can be a Forwarding Mapping Rule.
@@ -119,6 +121,16 @@ public class Rule {
 	@CWMPParameter(access = "readWrite")
 	public Boolean isfMR;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Rule() {
 	}
 
@@ -141,6 +153,7 @@ public class Rule {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -152,6 +165,7 @@ public class Rule {
 	 */
 	public Rule withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -177,6 +191,7 @@ public class Rule {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -190,6 +205,7 @@ public class Rule {
 	 */
 	public Rule withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -211,6 +227,8 @@ public class Rule {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -222,6 +240,8 @@ public class Rule {
 	 */
 	public Rule withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -247,6 +267,7 @@ public class Rule {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -260,6 +281,7 @@ public class Rule {
 	 */
 	public Rule withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -289,6 +311,8 @@ public class Rule {
 	 */
 	public void  setIpv6Prefix(IPv6Prefix ipv6Prefix) {
 		this.ipv6Prefix = ipv6Prefix;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -304,6 +328,8 @@ public class Rule {
 	 */
 	public Rule withIpv6Prefix(IPv6Prefix ipv6Prefix) {
 		this.ipv6Prefix = ipv6Prefix;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -329,6 +355,8 @@ public class Rule {
 	 */
 	public void  setIpv4Prefix(IPv4Prefix ipv4Prefix) {
 		this.ipv4Prefix = ipv4Prefix;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -342,6 +370,8 @@ public class Rule {
 	 */
 	public Rule withIpv4Prefix(IPv4Prefix ipv4Prefix) {
 		this.ipv4Prefix = ipv4Prefix;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -367,6 +397,7 @@ public class Rule {
 	 */
 	public void  setEabitsLength(Long eabitsLength) {
 		this.eabitsLength = eabitsLength;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -380,6 +411,7 @@ public class Rule {
 	 */
 	public Rule withEabitsLength(Long eabitsLength) {
 		this.eabitsLength = eabitsLength;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -405,6 +437,7 @@ public class Rule {
 	 */
 	public void  setIsfMR(Boolean isfMR) {
 		this.isfMR = isfMR;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -418,6 +451,7 @@ public class Rule {
 	 */
 	public Rule withIsfMR(Boolean isfMR) {
 		this.isfMR = isfMR;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.moca;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.*;
@@ -24,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.moca._interface.AssociatedDevice;
 import org.broadbandforum.tr181.device.moca._interface.QoS;
@@ -519,6 +522,16 @@ public class Interface {
   @XmlElement(name = "AssociatedDevice")
   public Collection<AssociatedDevice> associatedDevices;
 
+  /**
+   * The changed parameters, null unless the object is tracked.
+   */
+  transient DirtyBits dirty;
+
+  /**
+   * The table indexing this row by its unique keys, null unless indexed.
+   */
+  transient InstanceTable<?> table;
+
   public Interface() {
   }
 
@@ -545,6 +558,9 @@ public class Interface {
    */
   public void setEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
   }
 
   /**
@@ -558,6 +574,9 @@ public class Interface {
    */
   public Interface withEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
     return this;
   }
 
@@ -621,6 +640,9 @@ public class Interface {
    */
   public void setStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
   }
 
   /**
@@ -653,6 +675,9 @@ public class Interface {
    */
   public Interface withStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
     return this;
   }
 
@@ -674,6 +699,12 @@ public class Interface {
    */
   public void setAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -685,6 +716,12 @@ public class Interface {
    */
   public Interface withAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -706,6 +743,12 @@ public class Interface {
    */
   public void setName(String name) {
     this.name = name;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -717,6 +760,12 @@ public class Interface {
    */
   public Interface withName(String name) {
     this.name = name;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -740,6 +789,9 @@ public class Interface {
    */
   public void setLastChange(Long lastChange) {
     this.lastChange = lastChange;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
   }
 
   /**
@@ -752,6 +804,9 @@ public class Interface {
    */
   public Interface withLastChange(Long lastChange) {
     this.lastChange = lastChange;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
     return this;
   }
 
@@ -773,6 +828,22 @@ public class Interface {
     return lowerLayers;
   }
 
+  /**
+   * Read the {{list}} {{reference|an interface object that is stacked
+   * immediately below this interface object}} See {{bibref|TR-181i2|Section
+   * 4.2.1}}.
+   * <p>
+   * Note: Since {{object}} is a layer 1 interface, it is expected that
+   * {{param}} will not be used.
+   *
+   * @since 2.0
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewLowerLayers() {
+    return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+  }
+
   /**
    * Set the {{list}} {{reference|an interface object that is stacked
    * immediately below this interface object}} See {{bibref|TR-181i2|Section
@@ -786,6 +857,9 @@ public class Interface {
    */
   public void setLowerLayers(Collection<String> lowerLayers) {
     this.lowerLayers = lowerLayers;
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
   }
 
   /**
@@ -802,6 +876,9 @@ public class Interface {
    */
   public Interface withLowerLayers(String string) {
     getLowerLayers().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
     return this;
   }
 
@@ -847,6 +924,9 @@ public class Interface {
    */
   public void setUpstream(Boolean upstream) {
     this.upstream = upstream;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
   }
 
   /**
@@ -870,6 +950,9 @@ public class Interface {
    */
   public Interface withUpstream(Boolean upstream) {
     this.upstream = upstream;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
     return this;
   }
 
@@ -899,6 +982,9 @@ public class Interface {
    */
   public void setMacAddress(MACAddress macAddress) {
     this.macAddress = macAddress;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
   }
 
   /**
@@ -914,6 +1000,9 @@ public class Interface {
    */
   public Interface withMacAddress(MACAddress macAddress) {
     this.macAddress = macAddress;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
     return this;
   }
 
@@ -941,6 +1030,9 @@ public class Interface {
    */
   public void setFirmwareVersion(String firmwareVersion) {
     this.firmwareVersion = firmwareVersion;
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
   }
 
   /**
@@ -955,6 +1047,9 @@ public class Interface {
    */
   public Interface withFirmwareVersion(String firmwareVersion) {
     this.firmwareVersion = firmwareVersion;
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
     return this;
   }
 
@@ -976,6 +1071,9 @@ public class Interface {
    */
   public void setMaxBitRate(Long maxBitRate) {
     this.maxBitRate = maxBitRate;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
   }
 
   /**
@@ -987,6 +1085,9 @@ public class Interface {
    */
   public Interface withMaxBitRate(Long maxBitRate) {
     this.maxBitRate = maxBitRate;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
     return this;
   }
 
@@ -1016,6 +1117,9 @@ public class Interface {
    */
   public void setMaxIngressBW(Long maxIngressBW) {
     this.maxIngressBW = maxIngressBW;
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
   }
 
   /**
@@ -1031,6 +1135,9 @@ public class Interface {
    */
   public Interface withMaxIngressBW(Long maxIngressBW) {
     this.maxIngressBW = maxIngressBW;
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
     return this;
   }
 
@@ -1060,6 +1167,9 @@ public class Interface {
    */
   public void setMaxEgressBW(Long maxEgressBW) {
     this.maxEgressBW = maxEgressBW;
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
   }
 
   /**
@@ -1075,6 +1185,9 @@ public class Interface {
    */
   public Interface withMaxEgressBW(Long maxEgressBW) {
     this.maxEgressBW = maxEgressBW;
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
     return this;
   }
 
@@ -1112,6 +1225,9 @@ public class Interface {
    */
   public void setHighestVersion(String highestVersion) {
     this.highestVersion = highestVersion;
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
   }
 
   /**
@@ -1131,6 +1247,9 @@ public class Interface {
    */
   public Interface withHighestVersion(String highestVersion) {
     this.highestVersion = highestVersion;
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
     return this;
   }
 
@@ -1170,6 +1289,9 @@ public class Interface {
    */
   public void setCurrentVersion(String currentVersion) {
     this.currentVersion = currentVersion;
+    if (this.dirty != null) {
+      this.dirty.set(13);
+    }
   }
 
   /**
@@ -1190,6 +1312,9 @@ public class Interface {
    */
   public Interface withCurrentVersion(String currentVersion) {
     this.currentVersion = currentVersion;
+    if (this.dirty != null) {
+      this.dirty.set(13);
+    }
     return this;
   }
 
@@ -1217,6 +1342,9 @@ public class Interface {
    */
   public void setNetworkCoordinator(Long networkCoordinator) {
     this.networkCoordinator = networkCoordinator;
+    if (this.dirty != null) {
+      this.dirty.set(14);
+    }
   }
 
   /**
@@ -1231,6 +1359,9 @@ public class Interface {
    */
   public Interface withNetworkCoordinator(Long networkCoordinator) {
     this.networkCoordinator = networkCoordinator;
+    if (this.dirty != null) {
+      this.dirty.set(14);
+    }
     return this;
   }
 
@@ -1256,6 +1387,9 @@ public class Interface {
    */
   public void setNodeID(Long nodeID) {
     this.nodeID = nodeID;
+    if (this.dirty != null) {
+      this.dirty.set(15);
+    }
   }
 
   /**
@@ -1269,6 +1403,9 @@ public class Interface {
    */
   public Interface withNodeID(Long nodeID) {
     this.nodeID = nodeID;
+    if (this.dirty != null) {
+      this.dirty.set(15);
+    }
     return this;
   }
 
@@ -1296,6 +1433,9 @@ public class Interface {
    */
   public void setMaxNodes(Boolean maxNodes) {
     this.maxNodes = maxNodes;
+    if (this.dirty != null) {
+      this.dirty.set(16);
+    }
   }
 
   /**
@@ -1310,6 +1450,9 @@ public class Interface {
    */
   public Interface withMaxNodes(Boolean maxNodes) {
     this.maxNodes = maxNodes;
+    if (this.dirty != null) {
+      this.dirty.set(16);
+    }
     return this;
   }
 
@@ -1337,6 +1480,9 @@ public class Interface {
    */
   public void setPreferredNC(Boolean preferredNC) {
     this.preferredNC = preferredNC;
+    if (this.dirty != null) {
+      this.dirty.set(17);
+    }
   }
 
   /**
@@ -1351,6 +1497,9 @@ public class Interface {
    */
   public Interface withPreferredNC(Boolean preferredNC) {
     this.preferredNC = preferredNC;
+    if (this.dirty != null) {
+      this.dirty.set(17);
+    }
     return this;
   }
 
@@ -1376,6 +1525,9 @@ public class Interface {
    */
   public void setBackupNC(Long backupNC) {
     this.backupNC = backupNC;
+    if (this.dirty != null) {
+      this.dirty.set(18);
+    }
   }
 
   /**
@@ -1389,6 +1541,9 @@ public class Interface {
    */
   public Interface withBackupNC(Long backupNC) {
     this.backupNC = backupNC;
+    if (this.dirty != null) {
+      this.dirty.set(18);
+    }
     return this;
   }
 
@@ -1420,6 +1575,9 @@ public class Interface {
    */
   public void setPrivacyEnabledSetting(Boolean privacyEnabledSetting) {
     this.privacyEnabledSetting = privacyEnabledSetting;
+    if (this.dirty != null) {
+      this.dirty.set(19);
+    }
   }
 
   /**
@@ -1436,6 +1594,9 @@ public class Interface {
    */
   public Interface withPrivacyEnabledSetting(Boolean privacyEnabledSetting) {
     this.privacyEnabledSetting = privacyEnabledSetting;
+    if (this.dirty != null) {
+      this.dirty.set(19);
+    }
     return this;
   }
 
@@ -1463,6 +1624,9 @@ public class Interface {
    */
   public void setPrivacyEnabled(Boolean privacyEnabled) {
     this.privacyEnabled = privacyEnabled;
+    if (this.dirty != null) {
+      this.dirty.set(20);
+    }
   }
 
   /**
@@ -1477,6 +1641,9 @@ public class Interface {
    */
   public Interface withPrivacyEnabled(Boolean privacyEnabled) {
     this.privacyEnabled = privacyEnabled;
+    if (this.dirty != null) {
+      this.dirty.set(20);
+    }
     return this;
   }
 
@@ -1516,6 +1683,9 @@ public class Interface {
    */
   public void setFreqCapabilityMask(byte[] freqCapabilityMask) {
     this.freqCapabilityMask = freqCapabilityMask;
+    if (this.dirty != null) {
+      this.dirty.set(21);
+    }
   }
 
   /**
@@ -1536,6 +1706,9 @@ public class Interface {
    */
   public Interface withFreqCapabilityMask(byte[] freqCapabilityMask) {
     this.freqCapabilityMask = freqCapabilityMask;
+    if (this.dirty != null) {
+      this.dirty.set(21);
+    }
     return this;
   }
 
@@ -1567,6 +1740,9 @@ public class Interface {
    */
   public void setFreqCurrentMaskSetting(byte[] freqCurrentMaskSetting) {
     this.freqCurrentMaskSetting = freqCurrentMaskSetting;
+    if (this.dirty != null) {
+      this.dirty.set(22);
+    }
   }
 
   /**
@@ -1583,6 +1759,9 @@ public class Interface {
    */
   public Interface withFreqCurrentMaskSetting(byte[] freqCurrentMaskSetting) {
     this.freqCurrentMaskSetting = freqCurrentMaskSetting;
+    if (this.dirty != null) {
+      this.dirty.set(22);
+    }
     return this;
   }
 
@@ -1618,6 +1797,9 @@ public class Interface {
    */
   public void setFreqCurrentMask(byte[] freqCurrentMask) {
     this.freqCurrentMask = freqCurrentMask;
+    if (this.dirty != null) {
+      this.dirty.set(23);
+    }
   }
 
   /**
@@ -1636,6 +1818,9 @@ public class Interface {
    */
   public Interface withFreqCurrentMask(byte[] freqCurrentMask) {
     this.freqCurrentMask = freqCurrentMask;
+    if (this.dirty != null) {
+      this.dirty.set(23);
+    }
     return this;
   }
 
@@ -1665,6 +1850,9 @@ public class Interface {
    */
   public void setCurrentOperFreq(Long currentOperFreq) {
     this.currentOperFreq = currentOperFreq;
+    if (this.dirty != null) {
+      this.dirty.set(24);
+    }
   }
 
   /**
@@ -1680,6 +1868,9 @@ public class Interface {
    */
   public Interface withCurrentOperFreq(Long currentOperFreq) {
     this.currentOperFreq = currentOperFreq;
+    if (this.dirty != null) {
+      this.dirty.set(24);
+    }
     return this;
   }
 
@@ -1707,6 +1898,9 @@ public class Interface {
    */
   public void setLastOperFreq(Long lastOperFreq) {
     this.lastOperFreq = lastOperFreq;
+    if (this.dirty != null) {
+      this.dirty.set(25);
+    }
   }
 
   /**
@@ -1721,6 +1915,9 @@ public class Interface {
    */
   public Interface withLastOperFreq(Long lastOperFreq) {
     this.lastOperFreq = lastOperFreq;
+    if (this.dirty != null) {
+      this.dirty.set(25);
+    }
     return this;
   }
 
@@ -1748,6 +1945,9 @@ public class Interface {
    */
   public void setKeyPassphrase(String keyPassphrase) {
     this.keyPassphrase = keyPassphrase;
+    if (this.dirty != null) {
+      this.dirty.set(26);
+    }
   }
 
   /**
@@ -1762,6 +1962,9 @@ public class Interface {
    */
   public Interface withKeyPassphrase(String keyPassphrase) {
     this.keyPassphrase = keyPassphrase;
+    if (this.dirty != null) {
+      this.dirty.set(26);
+    }
     return this;
   }
 
@@ -1801,6 +2004,9 @@ public class Interface {
    */
   public void setTxpowerLimit(Long txpowerLimit) {
     this.txpowerLimit = txpowerLimit;
+    if (this.dirty != null) {
+      this.dirty.set(27);
+    }
   }
 
   /**
@@ -1821,6 +2027,9 @@ public class Interface {
    */
   public Interface withTxpowerLimit(Long txpowerLimit) {
     this.txpowerLimit = txpowerLimit;
+    if (this.dirty != null) {
+      this.dirty.set(27);
+    }
     return this;
   }
 
@@ -1858,6 +2067,9 @@ public class Interface {
    */
   public void setPowerCntlPhyTarget(Long powerCntlPhyTarget) {
     this.powerCntlPhyTarget = powerCntlPhyTarget;
+    if (this.dirty != null) {
+      this.dirty.set(28);
+    }
   }
 
   /**
@@ -1877,6 +2089,9 @@ public class Interface {
    */
   public Interface withPowerCntlPhyTarget(Long powerCntlPhyTarget) {
     this.powerCntlPhyTarget = powerCntlPhyTarget;
+    if (this.dirty != null) {
+      this.dirty.set(28);
+    }
     return this;
   }
 
@@ -1916,6 +2131,9 @@ public class Interface {
    */
   public void setBeaconPowerLimit(Long beaconPowerLimit) {
     this.beaconPowerLimit = beaconPowerLimit;
+    if (this.dirty != null) {
+      this.dirty.set(29);
+    }
   }
 
   /**
@@ -1936,6 +2154,9 @@ public class Interface {
    */
   public Interface withBeaconPowerLimit(Long beaconPowerLimit) {
     this.beaconPowerLimit = beaconPowerLimit;
+    if (this.dirty != null) {
+      this.dirty.set(29);
+    }
     return this;
   }
 
@@ -1971,6 +2192,9 @@ public class Interface {
    */
   public void setNetworkTabooMask(byte[] networkTabooMask) {
     this.networkTabooMask = networkTabooMask;
+    if (this.dirty != null) {
+      this.dirty.set(30);
+    }
   }
 
   /**
@@ -1989,6 +2213,9 @@ public class Interface {
    */
   public Interface withNetworkTabooMask(byte[] networkTabooMask) {
     this.networkTabooMask = networkTabooMask;
+    if (this.dirty != null) {
+      this.dirty.set(30);
+    }
     return this;
   }
 
@@ -2022,6 +2249,9 @@ public class Interface {
    */
   public void setNodeTabooMask(byte[] nodeTabooMask) {
     this.nodeTabooMask = nodeTabooMask;
+    if (this.dirty != null) {
+      this.dirty.set(31);
+    }
   }
 
   /**
@@ -2039,6 +2269,9 @@ public class Interface {
    */
   public Interface withNodeTabooMask(byte[] nodeTabooMask) {
     this.nodeTabooMask = nodeTabooMask;
+    if (this.dirty != null) {
+      this.dirty.set(31);
+    }
     return this;
   }
 
@@ -2064,6 +2297,9 @@ public class Interface {
    */
   public void setTxbcastRate(Long txbcastRate) {
     this.txbcastRate = txbcastRate;
+    if (this.dirty != null) {
+      this.dirty.set(32);
+    }
   }
 
   /**
@@ -2077,6 +2313,9 @@ public class Interface {
    */
   public Interface withTxbcastRate(Long txbcastRate) {
     this.txbcastRate = txbcastRate;
+    if (this.dirty != null) {
+      this.dirty.set(32);
+    }
     return this;
   }
 
@@ -2106,6 +2345,9 @@ public class Interface {
    */
   public void setTxbcastPowerReduction(Long txbcastPowerReduction) {
     this.txbcastPowerReduction = txbcastPowerReduction;
+    if (this.dirty != null) {
+      this.dirty.set(33);
+    }
   }
 
   /**
@@ -2121,6 +2363,9 @@ public class Interface {
    */
   public Interface withTxbcastPowerReduction(Long txbcastPowerReduction) {
     this.txbcastPowerReduction = txbcastPowerReduction;
+    if (this.dirty != null) {
+      this.dirty.set(33);
+    }
     return this;
   }
 
@@ -2148,6 +2393,9 @@ public class Interface {
    */
   public void setQam256Capable(Boolean qam256Capable) {
     this.qam256Capable = qam256Capable;
+    if (this.dirty != null) {
+      this.dirty.set(34);
+    }
   }
 
   /**
@@ -2162,6 +2410,9 @@ public class Interface {
    */
   public Interface withQam256Capable(Boolean qam256Capable) {
     this.qam256Capable = qam256Capable;
+    if (this.dirty != null) {
+      this.dirty.set(34);
+    }
     return this;
   }
 
@@ -2191,6 +2442,9 @@ public class Interface {
    */
   public void setPacketAggregationCapability(Long packetAggregationCapability) {
     this.packetAggregationCapability = packetAggregationCapability;
+    if (this.dirty != null) {
+      this.dirty.set(35);
+    }
   }
 
   /**
@@ -2206,6 +2460,9 @@ public class Interface {
    */
   public Interface withPacketAggregationCapability(Long packetAggregationCapability) {
     this.packetAggregationCapability = packetAggregationCapability;
+    if (this.dirty != null) {
+      this.dirty.set(35);
+    }
     return this;
   }
 
@@ -2304,12 +2561,23 @@ public class Interface {
    * @return the value
    */
   public Collection<AssociatedDevice> getAssociatedDevices() {
-    if (this.associatedDevices == null) {
-      this.associatedDevices = new ArrayList<>();
+    if (!(this.associatedDevices instanceof InstanceTable)) {
+      this.associatedDevices = InstanceTable.of(this.associatedDevices);
     }
     return associatedDevices;
   }
 
+  /**
+   * Read the this table contains information about other MoCA devices currently
+   * associated with this MoCA interface.
+   *
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<AssociatedDevice> viewAssociatedDevices() {
+    return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+  }
+
   /**
    * Set the this table contains information about other MoCA devices currently
    * associated with this MoCA interface.
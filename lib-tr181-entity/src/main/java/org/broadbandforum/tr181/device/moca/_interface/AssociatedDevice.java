@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -195,6 +197,16 @@ public class AssociatedDevice {
 	@XmlElement(name = "Active")
 	public Boolean active;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -217,6 +229,8 @@ public class AssociatedDevice {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -228,6 +242,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -253,6 +269,7 @@ public class AssociatedDevice {
 	 */
 	public void  setNodeID(Long nodeID) {
 		this.nodeID = nodeID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -266,6 +283,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withNodeID(Long nodeID) {
 		this.nodeID = nodeID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -291,6 +309,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPreferredNC(Boolean preferredNC) {
 		this.preferredNC = preferredNC;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -304,6 +323,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPreferredNC(Boolean preferredNC) {
 		this.preferredNC = preferredNC;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -333,6 +353,7 @@ public class AssociatedDevice {
 	 */
 	public void  setHighestVersion(String highestVersion) {
 		this.highestVersion = highestVersion;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -348,6 +369,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withHighestVersion(String highestVersion) {
 		this.highestVersion = highestVersion;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -373,6 +395,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPhyTxRate(Long phyTxRate) {
 		this.phyTxRate = phyTxRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -386,6 +409,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPhyTxRate(Long phyTxRate) {
 		this.phyTxRate = phyTxRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -407,6 +431,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPhyRxRate(Long phyRxRate) {
 		this.phyRxRate = phyRxRate;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -418,6 +443,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPhyRxRate(Long phyRxRate) {
 		this.phyRxRate = phyRxRate;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -443,6 +469,7 @@ public class AssociatedDevice {
 	 */
 	public void  setTxpowerControlReduction(Long txpowerControlReduction) {
 		this.txpowerControlReduction = txpowerControlReduction;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -456,6 +483,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withTxpowerControlReduction(Long txpowerControlReduction) {
 		this.txpowerControlReduction = txpowerControlReduction;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -481,6 +509,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRxpowerLevel(Long rxpowerLevel) {
 		this.rxpowerLevel = rxpowerLevel;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -494,6 +523,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRxpowerLevel(Long rxpowerLevel) {
 		this.rxpowerLevel = rxpowerLevel;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -519,6 +549,7 @@ public class AssociatedDevice {
 	 */
 	public void  setTxbcastRate(Long txbcastRate) {
 		this.txbcastRate = txbcastRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -532,6 +563,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withTxbcastRate(Long txbcastRate) {
 		this.txbcastRate = txbcastRate;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -557,6 +589,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRxbcastPowerLevel(Long rxbcastPowerLevel) {
 		this.rxbcastPowerLevel = rxbcastPowerLevel;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -570,6 +603,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRxbcastPowerLevel(Long rxbcastPowerLevel) {
 		this.rxbcastPowerLevel = rxbcastPowerLevel;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -591,6 +625,7 @@ public class AssociatedDevice {
 	 */
 	public void  setTxpackets(Long txpackets) {
 		this.txpackets = txpackets;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -602,6 +637,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withTxpackets(Long txpackets) {
 		this.txpackets = txpackets;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -627,6 +663,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRxpackets(Long rxpackets) {
 		this.rxpackets = rxpackets;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -640,6 +677,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRxpackets(Long rxpackets) {
 		this.rxpackets = rxpackets;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -665,6 +703,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRxerroredAndMissedPackets(Long rxerroredAndMissedPackets) {
 		this.rxerroredAndMissedPackets = rxerroredAndMissedPackets;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -678,6 +717,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRxerroredAndMissedPackets(Long rxerroredAndMissedPackets) {
 		this.rxerroredAndMissedPackets = rxerroredAndMissedPackets;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -703,6 +743,7 @@ public class AssociatedDevice {
 	 */
 	public void  setQam256Capable(Boolean qam256Capable) {
 		this.qam256Capable = qam256Capable;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -716,6 +757,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withQam256Capable(Boolean qam256Capable) {
 		this.qam256Capable = qam256Capable;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -741,6 +783,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPacketAggregationCapability(Long packetAggregationCapability) {
 		this.packetAggregationCapability = packetAggregationCapability;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -754,6 +797,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPacketAggregationCapability(Long packetAggregationCapability) {
 		this.packetAggregationCapability = packetAggregationCapability;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -779,6 +823,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRxsNR(Long rxsNR) {
 		this.rxsNR = rxsNR;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -792,6 +837,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRxsNR(Long rxsNR) {
 		this.rxsNR = rxsNR;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -817,6 +863,7 @@ public class AssociatedDevice {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -830,6 +877,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
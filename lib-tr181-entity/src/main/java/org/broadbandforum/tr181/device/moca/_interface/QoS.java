@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.moca._interface;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.moca._interface.qos.FlowStats;
 
 	/**
@@ -62,6 +64,11 @@ public class QoS {
 	@XmlElement(name = "FlowStats")
 	public Collection<FlowStats> flowStatss;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QoS() {
 	}
 
@@ -88,6 +95,7 @@ public class QoS {
 	 */
 	public void  setEgressNumFlows(Long egressNumFlows) {
 		this.egressNumFlows = egressNumFlows;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -101,6 +109,7 @@ public class QoS {
 	 */
 	public QoS withEgressNumFlows(Long egressNumFlows) {
 		this.egressNumFlows = egressNumFlows;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -126,6 +135,7 @@ public class QoS {
 	 */
 	public void  setIngressNumFlows(Long ingressNumFlows) {
 		this.ingressNumFlows = ingressNumFlows;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -139,6 +149,7 @@ public class QoS {
 	 */
 	public QoS withIngressNumFlows(Long ingressNumFlows) {
 		this.ingressNumFlows = ingressNumFlows;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,10 +159,20 @@ public class QoS {
 	 * @return the value
 	 */
 	public Collection<FlowStats> getFlowStatss() {
-		if (this.flowStatss == null){ this.flowStatss=new ArrayList<>();}
+		if (!(this.flowStatss instanceof InstanceTable)){ this.flowStatss=InstanceTable.of(this.flowStatss);}
 		return flowStatss;
 	}
 
+	/**
+	 * Read the flow statistics table provides information on the MoCA parameterized QoS flows this interface has allocated onto the MoCA network.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<FlowStats> viewFlowStatss() {
+		return flowStatss == null ? Collections.emptyList() : flowStatss;
+	}
+
 	/**
 	 * Set the flow statistics table provides information on the MoCA parameterized QoS flows this interface has allocated onto the MoCA network.
 	 *
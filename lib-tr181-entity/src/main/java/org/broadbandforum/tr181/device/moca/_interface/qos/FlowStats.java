@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -106,6 +108,16 @@ public class FlowStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long flowPackets;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public FlowStats() {
 	}
 
@@ -132,6 +144,8 @@ public class FlowStats {
 	 */
 	public void  setFlowID(Long flowID) {
 		this.flowID = flowID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -145,6 +159,8 @@ public class FlowStats {
 	 */
 	public FlowStats withFlowID(Long flowID) {
 		this.flowID = flowID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -170,6 +186,7 @@ public class FlowStats {
 	 */
 	public void  setPacketDA(MACAddress packetDA) {
 		this.packetDA = packetDA;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -183,6 +200,7 @@ public class FlowStats {
 	 */
 	public FlowStats withPacketDA(MACAddress packetDA) {
 		this.packetDA = packetDA;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -208,6 +226,7 @@ public class FlowStats {
 	 */
 	public void  setMaxRate(Long maxRate) {
 		this.maxRate = maxRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -221,6 +240,7 @@ public class FlowStats {
 	 */
 	public FlowStats withMaxRate(Long maxRate) {
 		this.maxRate = maxRate;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -246,6 +266,7 @@ public class FlowStats {
 	 */
 	public void  setMaxBurstSize(Long maxBurstSize) {
 		this.maxBurstSize = maxBurstSize;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -259,6 +280,7 @@ public class FlowStats {
 	 */
 	public FlowStats withMaxBurstSize(Long maxBurstSize) {
 		this.maxBurstSize = maxBurstSize;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -288,6 +310,7 @@ public class FlowStats {
 	 */
 	public void  setLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -303,6 +326,7 @@ public class FlowStats {
 	 */
 	public FlowStats withLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -332,6 +356,7 @@ public class FlowStats {
 	 */
 	public void  setLeaseTimeLeft(Long leaseTimeLeft) {
 		this.leaseTimeLeft = leaseTimeLeft;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -347,6 +372,7 @@ public class FlowStats {
 	 */
 	public FlowStats withLeaseTimeLeft(Long leaseTimeLeft) {
 		this.leaseTimeLeft = leaseTimeLeft;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -372,6 +398,7 @@ public class FlowStats {
 	 */
 	public void  setFlowPackets(Long flowPackets) {
 		this.flowPackets = flowPackets;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -385,6 +412,7 @@ public class FlowStats {
 	 */
 	public FlowStats withFlowPackets(Long flowPackets) {
 		this.flowPackets = flowPackets;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.mqtt;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.mqtt.broker.Bridge;
 import org.broadbandforum.tr181.device.mqtt.broker.Stats;
 
@@ -132,6 +134,16 @@ public class Broker {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Broker() {
 	}
 
@@ -154,6 +166,8 @@ public class Broker {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -165,6 +179,8 @@ public class Broker {
 	 */
 	public Broker withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -186,6 +202,8 @@ public class Broker {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -197,6 +215,8 @@ public class Broker {
 	 */
 	public Broker withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -218,6 +238,7 @@ public class Broker {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +250,7 @@ public class Broker {
 	 */
 	public Broker withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -258,6 +280,7 @@ public class Broker {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -273,6 +296,7 @@ public class Broker {
 	 */
 	public Broker withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -294,6 +318,7 @@ public class Broker {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -305,6 +330,7 @@ public class Broker {
 	 */
 	public Broker withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -326,6 +352,7 @@ public class Broker {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -337,6 +364,7 @@ public class Broker {
 	 */
 	public Broker with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -362,6 +390,7 @@ public class Broker {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -375,6 +404,7 @@ public class Broker {
 	 */
 	public Broker withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -400,6 +430,7 @@ public class Broker {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -413,6 +444,7 @@ public class Broker {
 	 */
 	public Broker withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -422,10 +454,20 @@ public class Broker {
 	 * @return the value
 	 */
 	public Collection<Bridge> getBridges() {
-		if (this.bridges == null){ this.bridges=new ArrayList<>();}
+		if (!(this.bridges instanceof InstanceTable)){ this.bridges=InstanceTable.of(this.bridges);}
 		return bridges;
 	}
 
+	/**
+	 * Read the configures MQTT bridges, which are used to communicate with other MQTT brokers.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Bridge> viewBridges() {
+		return bridges == null ? Collections.emptyList() : bridges;
+	}
+
 	/**
 	 * Set the configures MQTT bridges, which are used to communicate with other MQTT brokers.
 	 *
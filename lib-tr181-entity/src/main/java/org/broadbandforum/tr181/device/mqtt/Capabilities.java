@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.mqtt;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Indicates the MQTT capabilities of the device.
@@ -78,6 +80,11 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	@XmlElement(name = "MaxNumberOfBrokerBridgeSubscriptions")
 	public Long maxNumberOfBrokerBridgeSubscriptions;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -95,6 +102,19 @@ Enumerated value must be one of [3.1, 3.1.1]
 		return protocolVersionsSupported;
 	}
 
+	/**
+	 * Read the indicates the supported protocol versions. 
+
+Enumerated value must be one of [3.1, 3.1.1]
+	 *
+	 * @since 2.10
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewProtocolVersionsSupported() {
+		return protocolVersionsSupported == null ? Collections.emptyList() : protocolVersionsSupported;
+	}
+
 	/**
 	 * Set the indicates the supported protocol versions. 
 
@@ -105,6 +125,7 @@ Enumerated value must be one of [3.1, 3.1.1]
 	 */
 	public void  setProtocolVersionsSupported(Collection<String> protocolVersionsSupported) {
 		this.protocolVersionsSupported = protocolVersionsSupported;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +139,7 @@ Enumerated value must be one of [3.1, 3.1.1]
 	 */
 	public Capabilities withProtocolVersionsSupported(String string) {
 		getProtocolVersionsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -134,6 +156,19 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 		return transportProtocolSupported;
 	}
 
+	/**
+	 * Read the indicates the supported transport protocols. 
+
+Enumerated value must be one of [TCP/IP, TLS, WebSocket]
+	 *
+	 * @since 2.10
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTransportProtocolSupported() {
+		return transportProtocolSupported == null ? Collections.emptyList() : transportProtocolSupported;
+	}
+
 	/**
 	 * Set the indicates the supported transport protocols. 
 
@@ -144,6 +179,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public void  setTransportProtocolSupported(Collection<String> transportProtocolSupported) {
 		this.transportProtocolSupported = transportProtocolSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -157,6 +193,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public Capabilities withTransportProtocolSupported(String string) {
 		getTransportProtocolSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -178,6 +215,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public void  setMaxNumberOfClientSubscriptions(Long maxNumberOfClientSubscriptions) {
 		this.maxNumberOfClientSubscriptions = maxNumberOfClientSubscriptions;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -189,6 +227,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public Capabilities withMaxNumberOfClientSubscriptions(Long maxNumberOfClientSubscriptions) {
 		this.maxNumberOfClientSubscriptions = maxNumberOfClientSubscriptions;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -210,6 +249,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public void  setMaxNumberOfBrokerBridges(Long maxNumberOfBrokerBridges) {
 		this.maxNumberOfBrokerBridges = maxNumberOfBrokerBridges;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -221,6 +261,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public Capabilities withMaxNumberOfBrokerBridges(Long maxNumberOfBrokerBridges) {
 		this.maxNumberOfBrokerBridges = maxNumberOfBrokerBridges;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -242,6 +283,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public void  setMaxNumberOfBrokerBridgeSubscriptions(Long maxNumberOfBrokerBridgeSubscriptions) {
 		this.maxNumberOfBrokerBridgeSubscriptions = maxNumberOfBrokerBridgeSubscriptions;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -253,6 +295,7 @@ Enumerated value must be one of [TCP/IP, TLS, WebSocket]
 	 */
 	public Capabilities withMaxNumberOfBrokerBridgeSubscriptions(Long maxNumberOfBrokerBridgeSubscriptions) {
 		this.maxNumberOfBrokerBridgeSubscriptions = maxNumberOfBrokerBridgeSubscriptions;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
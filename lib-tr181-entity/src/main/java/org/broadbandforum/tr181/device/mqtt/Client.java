@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.mqtt;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.mqtt.client.Stats;
 import org.broadbandforum.tr181.device.mqtt.client.Subscription;
 
@@ -283,6 +285,16 @@ public class Client {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -305,6 +317,8 @@ public class Client {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -316,6 +330,8 @@ public class Client {
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -337,6 +353,8 @@ public class Client {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -348,6 +366,8 @@ public class Client {
 	 */
 	public Client withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -377,6 +397,7 @@ public class Client {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -392,6 +413,7 @@ public class Client {
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -425,6 +447,7 @@ public class Client {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -442,6 +465,7 @@ public class Client {
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -467,6 +491,7 @@ public class Client {
 	 */
 	public void  setClientID(String clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -480,6 +505,7 @@ public class Client {
 	 */
 	public Client withClientID(String clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -505,6 +531,7 @@ public class Client {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -518,6 +545,7 @@ public class Client {
 	 */
 	public Client withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -543,6 +571,7 @@ public class Client {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -556,6 +585,7 @@ public class Client {
 	 */
 	public Client withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -577,6 +607,7 @@ public class Client {
 	 */
 	public void  setTransportProtocol(String transportProtocol) {
 		this.transportProtocol = transportProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -588,6 +619,7 @@ public class Client {
 	 */
 	public Client withTransportProtocol(String transportProtocol) {
 		this.transportProtocol = transportProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -609,6 +641,7 @@ public class Client {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -620,6 +653,7 @@ public class Client {
 	 */
 	public Client withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -645,6 +679,7 @@ public class Client {
 	 */
 	public void  setCleanSession(Boolean cleanSession) {
 		this.cleanSession = cleanSession;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -658,6 +693,7 @@ public class Client {
 	 */
 	public Client withCleanSession(Boolean cleanSession) {
 		this.cleanSession = cleanSession;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -679,6 +715,7 @@ public class Client {
 	 */
 	public void  setMessageRetryTime(Long messageRetryTime) {
 		this.messageRetryTime = messageRetryTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -690,6 +727,7 @@ public class Client {
 	 */
 	public Client withMessageRetryTime(Long messageRetryTime) {
 		this.messageRetryTime = messageRetryTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -715,6 +753,7 @@ public class Client {
 	 */
 	public void  setConnectRetryTime(Long connectRetryTime) {
 		this.connectRetryTime = connectRetryTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -728,6 +767,7 @@ public class Client {
 	 */
 	public Client withConnectRetryTime(Long connectRetryTime) {
 		this.connectRetryTime = connectRetryTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -757,6 +797,7 @@ public class Client {
 	 */
 	public void  setKeepAliveTime(Long keepAliveTime) {
 		this.keepAliveTime = keepAliveTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -772,6 +813,7 @@ public class Client {
 	 */
 	public Client withKeepAliveTime(Long keepAliveTime) {
 		this.keepAliveTime = keepAliveTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -801,6 +843,7 @@ public class Client {
 	 */
 	public void  setForceReconnect(Boolean forceReconnect) {
 		this.forceReconnect = forceReconnect;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -816,6 +859,7 @@ public class Client {
 	 */
 	public Client withForceReconnect(Boolean forceReconnect) {
 		this.forceReconnect = forceReconnect;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -837,6 +881,7 @@ public class Client {
 	 */
 	public void  setBrokerAddress(String brokerAddress) {
 		this.brokerAddress = brokerAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -848,6 +893,7 @@ public class Client {
 	 */
 	public Client withBrokerAddress(String brokerAddress) {
 		this.brokerAddress = brokerAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -869,6 +915,7 @@ public class Client {
 	 */
 	public void  setBrokerPort(Long brokerPort) {
 		this.brokerPort = brokerPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -880,6 +927,7 @@ public class Client {
 	 */
 	public Client withBrokerPort(Long brokerPort) {
 		this.brokerPort = brokerPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -905,6 +953,7 @@ public class Client {
 	 */
 	public void  setWillEnable(Boolean willEnable) {
 		this.willEnable = willEnable;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -918,6 +967,7 @@ public class Client {
 	 */
 	public Client withWillEnable(Boolean willEnable) {
 		this.willEnable = willEnable;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -947,6 +997,7 @@ public class Client {
 	 */
 	public void  setWillTopic(String willTopic) {
 		this.willTopic = willTopic;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -962,6 +1013,7 @@ public class Client {
 	 */
 	public Client withWillTopic(String willTopic) {
 		this.willTopic = willTopic;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -991,6 +1043,7 @@ public class Client {
 	 */
 	public void  setWillValue(String willValue) {
 		this.willValue = willValue;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1006,6 +1059,7 @@ public class Client {
 	 */
 	public Client withWillValue(String willValue) {
 		this.willValue = willValue;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1035,6 +1089,7 @@ public class Client {
 	 */
 	public void  setWillQoS(Long willQoS) {
 		this.willQoS = willQoS;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1050,6 +1105,7 @@ public class Client {
 	 */
 	public Client withWillQoS(Long willQoS) {
 		this.willQoS = willQoS;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1079,6 +1135,7 @@ public class Client {
 	 */
 	public void  setWillRetain(Boolean willRetain) {
 		this.willRetain = willRetain;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1094,6 +1151,7 @@ public class Client {
 	 */
 	public Client withWillRetain(Boolean willRetain) {
 		this.willRetain = willRetain;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1105,10 +1163,22 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<Subscription> getSubscriptions() {
-		if (this.subscriptions == null){ this.subscriptions=new ArrayList<>();}
+		if (!(this.subscriptions instanceof InstanceTable)){ this.subscriptions=InstanceTable.of(this.subscriptions);}
 		return subscriptions;
 	}
 
+	/**
+	 * Read the list of MQTT subscriptions handled by the MQTT client.
+
+        The MQTT client MUST subscribe with the MQTT broker for all subscription instances, whose parameter {{param|Enable}} is set to {{true}}, when it establishes a new connection to the MQTT broker. Disabled subscription instances with {{param|Enable}} set to {{false}} will be ignored during connection establishment.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Subscription> viewSubscriptions() {
+		return subscriptions == null ? Collections.emptyList() : subscriptions;
+	}
+
 	/**
 	 * Set the list of MQTT subscriptions handled by the MQTT client.
 
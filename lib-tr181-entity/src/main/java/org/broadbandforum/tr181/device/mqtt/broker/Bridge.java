@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.mqtt.broker;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.mqtt.broker.bridge.Server;
 import org.broadbandforum.tr181.device.mqtt.broker.bridge.Subscription;
 
@@ -225,6 +227,16 @@ public class Bridge {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Subscription> subscriptions;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Bridge() {
 	}
 
@@ -247,6 +259,8 @@ public class Bridge {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -258,6 +272,8 @@ public class Bridge {
 	 */
 	public Bridge withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -279,6 +295,8 @@ public class Bridge {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -290,6 +308,8 @@ public class Bridge {
 	 */
 	public Bridge withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -311,6 +331,7 @@ public class Bridge {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -322,6 +343,7 @@ public class Bridge {
 	 */
 	public Bridge withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -367,6 +389,7 @@ public class Bridge {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -390,6 +413,7 @@ public class Bridge {
 	 */
 	public Bridge withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -415,6 +439,7 @@ public class Bridge {
 	 */
 	public void  setClientID(String clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -428,6 +453,7 @@ public class Bridge {
 	 */
 	public Bridge withClientID(String clientID) {
 		this.clientID = clientID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -453,6 +479,7 @@ public class Bridge {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -466,6 +493,7 @@ public class Bridge {
 	 */
 	public Bridge withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -491,6 +519,7 @@ public class Bridge {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -504,6 +533,7 @@ public class Bridge {
 	 */
 	public Bridge withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -525,6 +555,7 @@ public class Bridge {
 	 */
 	public void  setTransportProtocol(String transportProtocol) {
 		this.transportProtocol = transportProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -536,6 +567,7 @@ public class Bridge {
 	 */
 	public Bridge withTransportProtocol(String transportProtocol) {
 		this.transportProtocol = transportProtocol;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -557,6 +589,7 @@ public class Bridge {
 	 */
 	public void  setProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -568,6 +601,7 @@ public class Bridge {
 	 */
 	public Bridge withProtocolVersion(String protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -593,6 +627,7 @@ public class Bridge {
 	 */
 	public void  setCleanSession(Boolean cleanSession) {
 		this.cleanSession = cleanSession;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -606,6 +641,7 @@ public class Bridge {
 	 */
 	public Bridge withCleanSession(Boolean cleanSession) {
 		this.cleanSession = cleanSession;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -627,6 +663,7 @@ public class Bridge {
 	 */
 	public void  setMessageRetryTime(Long messageRetryTime) {
 		this.messageRetryTime = messageRetryTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -638,6 +675,7 @@ public class Bridge {
 	 */
 	public Bridge withMessageRetryTime(Long messageRetryTime) {
 		this.messageRetryTime = messageRetryTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -663,6 +701,7 @@ public class Bridge {
 	 */
 	public void  setConnectRetryTime(Long connectRetryTime) {
 		this.connectRetryTime = connectRetryTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -676,6 +715,7 @@ public class Bridge {
 	 */
 	public Bridge withConnectRetryTime(Long connectRetryTime) {
 		this.connectRetryTime = connectRetryTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -705,6 +745,7 @@ public class Bridge {
 	 */
 	public void  setKeepAliveTime(Long keepAliveTime) {
 		this.keepAliveTime = keepAliveTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -720,6 +761,7 @@ public class Bridge {
 	 */
 	public Bridge withKeepAliveTime(Long keepAliveTime) {
 		this.keepAliveTime = keepAliveTime;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -749,6 +791,7 @@ public class Bridge {
 	 */
 	public void  setForceReconnect(Boolean forceReconnect) {
 		this.forceReconnect = forceReconnect;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -764,6 +807,7 @@ public class Bridge {
 	 */
 	public Bridge withForceReconnect(Boolean forceReconnect) {
 		this.forceReconnect = forceReconnect;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -785,6 +829,7 @@ public class Bridge {
 	 */
 	public void  setServerSelectionAlgorithm(String serverSelectionAlgorithm) {
 		this.serverSelectionAlgorithm = serverSelectionAlgorithm;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -796,6 +841,7 @@ public class Bridge {
 	 */
 	public Bridge withServerSelectionAlgorithm(String serverSelectionAlgorithm) {
 		this.serverSelectionAlgorithm = serverSelectionAlgorithm;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -817,6 +863,7 @@ public class Bridge {
 	 */
 	public void  setServerConnection(String serverConnection) {
 		this.serverConnection = serverConnection;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -828,6 +875,7 @@ public class Bridge {
 	 */
 	public Bridge withServerConnection(String serverConnection) {
 		this.serverConnection = serverConnection;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -841,10 +889,24 @@ public class Bridge {
 	 * @return the value
 	 */
 	public Collection<Server> getServers() {
-		if (this.servers == null){ this.servers=new ArrayList<>();}
+		if (!(this.servers instanceof InstanceTable)){ this.servers=InstanceTable.of(this.servers);}
 		return servers;
 	}
 
+	/**
+	 * Read the each {{object}} instance represents a MQTT bridge server to be used for a {{object|##.Bridge}}. A remote MQTT broker, which is connected by a MQTT bridge can be reachable via several host addresses each represented by its own {{object}} table entry. For an active MQTT bridge at least one enabled entry has to exist.
+
+        If a MQTT bridge gets enabled by setting the parameter {{param|##.Bridge.{i}.Enable}} to {{true}}, which either has an empty {{object}} table or the {{object}} table only contains instances whose {{param|Enable}} is set to {{false}}, the {{param|##.Bridge.{i}.Status}} has to be set to {{enum|Error_Misconfigured|##.Bridge.{i}.Status}}.
+
+        Any attempt to delete an instance, which is currently in use ({{param|##.Bridge.{i}.ServerConnection}} refers to the instance to be deleted), has to be rejected.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Server> viewServers() {
+		return servers == null ? Collections.emptyList() : servers;
+	}
+
 	/**
 	 * Set the each {{object}} instance represents a MQTT bridge server to be used for a {{object|##.Bridge}}. A remote MQTT broker, which is connected by a MQTT bridge can be reachable via several host addresses each represented by its own {{object}} table entry. For an active MQTT bridge at least one enabled entry has to exist.
 
@@ -879,10 +941,20 @@ public class Bridge {
 	 * @return the value
 	 */
 	public Collection<Subscription> getSubscriptions() {
-		if (this.subscriptions == null){ this.subscriptions=new ArrayList<>();}
+		if (!(this.subscriptions instanceof InstanceTable)){ this.subscriptions=InstanceTable.of(this.subscriptions);}
 		return subscriptions;
 	}
 
+	/**
+	 * Read the list of MQTT subscriptions handled over the bridge.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Subscription> viewSubscriptions() {
+		return subscriptions == null ? Collections.emptyList() : subscriptions;
+	}
+
 	/**
 	 * Set the list of MQTT subscriptions handled over the bridge.
 	 *
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -113,6 +114,11 @@ public class Stats {
 	@XmlElement(name = "PublishErrors")
 	public StatsCounter32 publishErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -135,6 +141,7 @@ public class Stats {
 	 */
 	public void  setTotalNumberOfClients(Long totalNumberOfClients) {
 		this.totalNumberOfClients = totalNumberOfClients;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -146,6 +153,7 @@ public class Stats {
 	 */
 	public Stats withTotalNumberOfClients(Long totalNumberOfClients) {
 		this.totalNumberOfClients = totalNumberOfClients;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -167,6 +175,7 @@ public class Stats {
 	 */
 	public void  setNumberOfActiveClients(Long numberOfActiveClients) {
 		this.numberOfActiveClients = numberOfActiveClients;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -178,6 +187,7 @@ public class Stats {
 	 */
 	public Stats withNumberOfActiveClients(Long numberOfActiveClients) {
 		this.numberOfActiveClients = numberOfActiveClients;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +209,7 @@ public class Stats {
 	 */
 	public void  setNumberOfInactiveClients(Long numberOfInactiveClients) {
 		this.numberOfInactiveClients = numberOfInactiveClients;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -210,6 +221,7 @@ public class Stats {
 	 */
 	public Stats withNumberOfInactiveClients(Long numberOfInactiveClients) {
 		this.numberOfInactiveClients = numberOfInactiveClients;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -231,6 +243,7 @@ public class Stats {
 	 */
 	public void  setSubscriptions(Long subscriptions) {
 		this.subscriptions = subscriptions;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -242,6 +255,7 @@ public class Stats {
 	 */
 	public Stats withSubscriptions(Long subscriptions) {
 		this.subscriptions = subscriptions;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -263,6 +277,7 @@ public class Stats {
 	 */
 	public void  setPublishSent(StatsCounter64 publishSent) {
 		this.publishSent = publishSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -274,6 +289,7 @@ public class Stats {
 	 */
 	public Stats withPublishSent(StatsCounter64 publishSent) {
 		this.publishSent = publishSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -295,6 +311,7 @@ public class Stats {
 	 */
 	public void  setPublishReceived(StatsCounter64 publishReceived) {
 		this.publishReceived = publishReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -306,6 +323,7 @@ public class Stats {
 	 */
 	public Stats withPublishReceived(StatsCounter64 publishReceived) {
 		this.publishReceived = publishReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -327,6 +345,7 @@ public class Stats {
 	 */
 	public void  setMqtTMessagesSent(StatsCounter64 mqtTMessagesSent) {
 		this.mqtTMessagesSent = mqtTMessagesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -338,6 +357,7 @@ public class Stats {
 	 */
 	public Stats withMqtTMessagesSent(StatsCounter64 mqtTMessagesSent) {
 		this.mqtTMessagesSent = mqtTMessagesSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -359,6 +379,7 @@ public class Stats {
 	 */
 	public void  setMqtTMessagesReceived(StatsCounter64 mqtTMessagesReceived) {
 		this.mqtTMessagesReceived = mqtTMessagesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -370,6 +391,7 @@ public class Stats {
 	 */
 	public Stats withMqtTMessagesReceived(StatsCounter64 mqtTMessagesReceived) {
 		this.mqtTMessagesReceived = mqtTMessagesReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -391,6 +413,7 @@ public class Stats {
 	 */
 	public void  setConnectionErrors(StatsCounter32 connectionErrors) {
 		this.connectionErrors = connectionErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -402,6 +425,7 @@ public class Stats {
 	 */
 	public Stats withConnectionErrors(StatsCounter32 connectionErrors) {
 		this.connectionErrors = connectionErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -423,6 +447,7 @@ public class Stats {
 	 */
 	public void  setPublishErrors(StatsCounter32 publishErrors) {
 		this.publishErrors = publishErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -434,6 +459,7 @@ public class Stats {
 	 */
 	public Stats withPublishErrors(StatsCounter32 publishErrors) {
 		this.publishErrors = publishErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
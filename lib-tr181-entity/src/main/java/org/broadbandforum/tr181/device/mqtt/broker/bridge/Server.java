@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Each {{object}} instance represents a MQTT bridge server to be used for a {{object|##.Bridge}}. A remote MQTT broker, which is connected by a MQTT bridge can be reachable via several host addresses each represented by its own {{object}} table entry. For an active MQTT bridge at least one enabled entry has to exist.
@@ -101,6 +103,16 @@ public class Server {
 	@Size(min = 1, max = 65535)
 	public Long port = 1883L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Server() {
 	}
 
@@ -123,6 +135,7 @@ public class Server {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +147,7 @@ public class Server {
 	 */
 	public Server withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -155,6 +169,8 @@ public class Server {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -166,6 +182,8 @@ public class Server {
 	 */
 	public Server withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -191,6 +209,7 @@ public class Server {
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -204,6 +223,7 @@ public class Server {
 	 */
 	public Server withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -229,6 +249,7 @@ public class Server {
 	 */
 	public void  setWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -242,6 +263,7 @@ public class Server {
 	 */
 	public Server withWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -267,6 +289,8 @@ public class Server {
 	 */
 	public void  setAddress(String address) {
 		this.address = address;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -280,6 +304,8 @@ public class Server {
 	 */
 	public Server withAddress(String address) {
 		this.address = address;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -301,6 +327,8 @@ public class Server {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -312,6 +340,8 @@ public class Server {
 	 */
 	public Server withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * List of MQTT subscriptions handled over the bridge.
@@ -170,6 +172,16 @@ public class Subscription {
 	@CWMPParameter(access = "readWrite")
 	public String remotePrefix;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Subscription() {
 	}
 
@@ -192,6 +204,8 @@ public class Subscription {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -203,6 +217,8 @@ public class Subscription {
 	 */
 	public Subscription withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -228,6 +244,7 @@ public class Subscription {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -241,6 +258,7 @@ public class Subscription {
 	 */
 	public Subscription withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -274,6 +292,7 @@ public class Subscription {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -291,6 +310,7 @@ public class Subscription {
 	 */
 	public Subscription withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -312,6 +332,8 @@ public class Subscription {
 	 */
 	public void  setTopic(String topic) {
 		this.topic = topic;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -323,6 +345,8 @@ public class Subscription {
 	 */
 	public Subscription withTopic(String topic) {
 		this.topic = topic;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -344,6 +368,8 @@ public class Subscription {
 	 */
 	public void  setDirection(String direction) {
 		this.direction = direction;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -355,6 +381,8 @@ public class Subscription {
 	 */
 	public Subscription withDirection(String direction) {
 		this.direction = direction;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -376,6 +404,7 @@ public class Subscription {
 	 */
 	public void  setQos(Long qos) {
 		this.qos = qos;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -387,6 +416,7 @@ public class Subscription {
 	 */
 	public Subscription withQos(Long qos) {
 		this.qos = qos;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -456,6 +486,7 @@ public class Subscription {
 	 */
 	public void  setLocalPrefix(String localPrefix) {
 		this.localPrefix = localPrefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -491,6 +522,7 @@ public class Subscription {
 	 */
 	public Subscription withLocalPrefix(String localPrefix) {
 		this.localPrefix = localPrefix;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -580,6 +612,7 @@ public class Subscription {
 	 */
 	public void  setRemotePrefix(String remotePrefix) {
 		this.remotePrefix = remotePrefix;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -625,6 +658,7 @@ public class Subscription {
 	 */
 	public Subscription withRemotePrefix(String remotePrefix) {
 		this.remotePrefix = remotePrefix;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -21,10 +21,13 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Contains the MQTT client statistics and usage information.
@@ -45,6 +48,7 @@ public class Stats {
 	 * @since 2.10
 	 */
 	@XmlElement(name = "BrokerConnectionEstablished")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime brokerConnectionEstablished;
 	/**
@@ -53,6 +57,7 @@ public class Stats {
 	 * @since 2.10
 	 */
 	@XmlElement(name = "LastPublishMessageSent")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime lastPublishMessageSent;
 	/**
@@ -61,6 +66,7 @@ public class Stats {
 	 * @since 2.10
 	 */
 	@XmlElement(name = "LastPublishMessageReceived")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime lastPublishMessageReceived;
 	/**
@@ -127,6 +133,11 @@ public class Stats {
 	@XmlElement(name = "PublishErrors")
 	public StatsCounter32 publishErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -149,6 +160,7 @@ public class Stats {
 	 */
 	public void  setBrokerConnectionEstablished(LocalDateTime brokerConnectionEstablished) {
 		this.brokerConnectionEstablished = brokerConnectionEstablished;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -160,6 +172,7 @@ public class Stats {
 	 */
 	public Stats withBrokerConnectionEstablished(LocalDateTime brokerConnectionEstablished) {
 		this.brokerConnectionEstablished = brokerConnectionEstablished;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -181,6 +194,7 @@ public class Stats {
 	 */
 	public void  setLastPublishMessageSent(LocalDateTime lastPublishMessageSent) {
 		this.lastPublishMessageSent = lastPublishMessageSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -192,6 +206,7 @@ public class Stats {
 	 */
 	public Stats withLastPublishMessageSent(LocalDateTime lastPublishMessageSent) {
 		this.lastPublishMessageSent = lastPublishMessageSent;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -213,6 +228,7 @@ public class Stats {
 	 */
 	public void  setLastPublishMessageReceived(LocalDateTime lastPublishMessageReceived) {
 		this.lastPublishMessageReceived = lastPublishMessageReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -224,6 +240,7 @@ public class Stats {
 	 */
 	public Stats withLastPublishMessageReceived(LocalDateTime lastPublishMessageReceived) {
 		this.lastPublishMessageReceived = lastPublishMessageReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -245,6 +262,7 @@ public class Stats {
 	 */
 	public void  setPublishSent(StatsCounter64 publishSent) {
 		this.publishSent = publishSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -256,6 +274,7 @@ public class Stats {
 	 */
 	public Stats withPublishSent(StatsCounter64 publishSent) {
 		this.publishSent = publishSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -277,6 +296,7 @@ public class Stats {
 	 */
 	public void  setPublishReceived(StatsCounter64 publishReceived) {
 		this.publishReceived = publishReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -288,6 +308,7 @@ public class Stats {
 	 */
 	public Stats withPublishReceived(StatsCounter64 publishReceived) {
 		this.publishReceived = publishReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -309,6 +330,7 @@ public class Stats {
 	 */
 	public void  setSubscribeSent(StatsCounter64 subscribeSent) {
 		this.subscribeSent = subscribeSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -320,6 +342,7 @@ public class Stats {
 	 */
 	public Stats withSubscribeSent(StatsCounter64 subscribeSent) {
 		this.subscribeSent = subscribeSent;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -341,6 +364,7 @@ public class Stats {
 	 */
 	public void  setUnsubscribeSent(StatsCounter64 unsubscribeSent) {
 		this.unsubscribeSent = unsubscribeSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -352,6 +376,7 @@ public class Stats {
 	 */
 	public Stats withUnsubscribeSent(StatsCounter64 unsubscribeSent) {
 		this.unsubscribeSent = unsubscribeSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -373,6 +398,7 @@ public class Stats {
 	 */
 	public void  setMqtTMessagesSent(StatsCounter64 mqtTMessagesSent) {
 		this.mqtTMessagesSent = mqtTMessagesSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -384,6 +410,7 @@ public class Stats {
 	 */
 	public Stats withMqtTMessagesSent(StatsCounter64 mqtTMessagesSent) {
 		this.mqtTMessagesSent = mqtTMessagesSent;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -405,6 +432,7 @@ public class Stats {
 	 */
 	public void  setMqtTMessagesReceived(StatsCounter64 mqtTMessagesReceived) {
 		this.mqtTMessagesReceived = mqtTMessagesReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -416,6 +444,7 @@ public class Stats {
 	 */
 	public Stats withMqtTMessagesReceived(StatsCounter64 mqtTMessagesReceived) {
 		this.mqtTMessagesReceived = mqtTMessagesReceived;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -437,6 +466,7 @@ public class Stats {
 	 */
 	public void  setConnectionErrors(StatsCounter32 connectionErrors) {
 		this.connectionErrors = connectionErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -448,6 +478,7 @@ public class Stats {
 	 */
 	public Stats withConnectionErrors(StatsCounter32 connectionErrors) {
 		this.connectionErrors = connectionErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -469,6 +500,7 @@ public class Stats {
 	 */
 	public void  setPublishErrors(StatsCounter32 publishErrors) {
 		this.publishErrors = publishErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -480,6 +512,7 @@ public class Stats {
 	 */
 	public Stats withPublishErrors(StatsCounter32 publishErrors) {
 		this.publishErrors = publishErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * List of MQTT subscriptions handled by the MQTT client.
@@ -94,6 +96,16 @@ public class Subscription {
 	@Size(min = 0, max = 2)
 	public Long qos;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Subscription() {
 	}
 
@@ -116,6 +128,8 @@ public class Subscription {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -127,6 +141,8 @@ public class Subscription {
 	 */
 	public Subscription withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -152,6 +168,7 @@ public class Subscription {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -165,6 +182,7 @@ public class Subscription {
 	 */
 	public Subscription withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -206,6 +224,7 @@ public class Subscription {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -227,6 +246,7 @@ public class Subscription {
 	 */
 	public Subscription withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -248,6 +268,8 @@ public class Subscription {
 	 */
 	public void  setTopic(String topic) {
 		this.topic = topic;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -259,6 +281,8 @@ public class Subscription {
 	 */
 	public Subscription withTopic(String topic) {
 		this.topic = topic;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -280,6 +304,7 @@ public class Subscription {
 	 */
 	public void  setQos(Long qos) {
 		this.qos = qos;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -291,6 +316,7 @@ public class Subscription {
 	 */
 	public Subscription withQos(Long qos) {
 		this.qos = qos;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Port mapping table.
@@ -214,6 +216,16 @@ public class PortMapping {
 	@Size(max = 256)
 	public String description;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PortMapping() {
 	}
 
@@ -236,6 +248,7 @@ public class PortMapping {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -247,6 +260,7 @@ public class PortMapping {
 	 */
 	public PortMapping withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -276,6 +290,7 @@ public class PortMapping {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -291,6 +306,7 @@ public class PortMapping {
 	 */
 	public PortMapping withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -316,6 +332,8 @@ public class PortMapping {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -329,6 +347,8 @@ public class PortMapping {
 	 */
 	public PortMapping withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -350,6 +370,7 @@ public class PortMapping {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -361,6 +382,7 @@ public class PortMapping {
 	 */
 	public PortMapping with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -382,6 +404,7 @@ public class PortMapping {
 	 */
 	public void  setAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -393,6 +416,7 @@ public class PortMapping {
 	 */
 	public PortMapping withAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -422,6 +446,7 @@ public class PortMapping {
 	 */
 	public void  setLeaseDuration(Long leaseDuration) {
 		this.leaseDuration = leaseDuration;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -437,6 +462,7 @@ public class PortMapping {
 	 */
 	public PortMapping withLeaseDuration(Long leaseDuration) {
 		this.leaseDuration = leaseDuration;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -494,6 +520,8 @@ public class PortMapping {
 	 */
 	public void  setRemoteHost(String remoteHost) {
 		this.remoteHost = remoteHost;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -523,6 +551,8 @@ public class PortMapping {
 	 */
 	public PortMapping withRemoteHost(String remoteHost) {
 		this.remoteHost = remoteHost;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -572,6 +602,8 @@ public class PortMapping {
 	 */
 	public void  setExternalPort(Long externalPort) {
 		this.externalPort = externalPort;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -597,6 +629,8 @@ public class PortMapping {
 	 */
 	public PortMapping withExternalPort(Long externalPort) {
 		this.externalPort = externalPort;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -634,6 +668,7 @@ public class PortMapping {
 	 */
 	public void  setExternalPortEndRange(Long externalPortEndRange) {
 		this.externalPortEndRange = externalPortEndRange;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -653,6 +688,7 @@ public class PortMapping {
 	 */
 	public PortMapping withExternalPortEndRange(Long externalPortEndRange) {
 		this.externalPortEndRange = externalPortEndRange;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -674,6 +710,7 @@ public class PortMapping {
 	 */
 	public void  setInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -685,6 +722,7 @@ public class PortMapping {
 	 */
 	public PortMapping withInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -706,6 +744,8 @@ public class PortMapping {
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -717,6 +757,8 @@ public class PortMapping {
 	 */
 	public PortMapping withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -754,6 +796,7 @@ public class PortMapping {
 	 */
 	public void  setInternalClient(String internalClient) {
 		this.internalClient = internalClient;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -773,6 +816,7 @@ public class PortMapping {
 	 */
 	public PortMapping withInternalClient(String internalClient) {
 		this.internalClient = internalClient;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -794,6 +838,7 @@ public class PortMapping {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -805,6 +850,7 @@ public class PortMapping {
 	 */
 	public PortMapping withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
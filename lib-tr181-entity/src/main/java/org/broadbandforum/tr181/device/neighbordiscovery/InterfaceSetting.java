@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Per-interface Neighbor Discovery Protocol (NDP) configuration {{bibref|RFC4861}}.
@@ -117,6 +119,16 @@ public class InterfaceSetting {
 	@CWMPParameter(access = "readWrite")
 	public Boolean rsenable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterfaceSetting() {
 	}
 
@@ -139,6 +151,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -150,6 +163,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -179,6 +193,7 @@ public class InterfaceSetting {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -194,6 +209,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -215,6 +231,8 @@ public class InterfaceSetting {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -226,6 +244,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -247,6 +267,8 @@ public class InterfaceSetting {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -258,6 +280,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -279,6 +303,7 @@ public class InterfaceSetting {
 	 */
 	public void  setRetransTimer(Long retransTimer) {
 		this.retransTimer = retransTimer;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -290,6 +315,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withRetransTimer(Long retransTimer) {
 		this.retransTimer = retransTimer;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -311,6 +337,7 @@ public class InterfaceSetting {
 	 */
 	public void  setRtrSolicitationInterval(Long rtrSolicitationInterval) {
 		this.rtrSolicitationInterval = rtrSolicitationInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -322,6 +349,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withRtrSolicitationInterval(Long rtrSolicitationInterval) {
 		this.rtrSolicitationInterval = rtrSolicitationInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -343,6 +371,7 @@ public class InterfaceSetting {
 	 */
 	public void  setMaxRtrSolicitations(Long maxRtrSolicitations) {
 		this.maxRtrSolicitations = maxRtrSolicitations;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -354,6 +383,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withMaxRtrSolicitations(Long maxRtrSolicitations) {
 		this.maxRtrSolicitations = maxRtrSolicitations;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -375,6 +405,7 @@ public class InterfaceSetting {
 	 */
 	public void  setNudEnable(Boolean nudEnable) {
 		this.nudEnable = nudEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -386,6 +417,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withNudEnable(Boolean nudEnable) {
 		this.nudEnable = nudEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -407,6 +439,7 @@ public class InterfaceSetting {
 	 */
 	public void  setRsenable(Boolean rsenable) {
 		this.rsenable = rsenable;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -418,6 +451,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withRsenable(Boolean rsenable) {
 		this.rsenable = rsenable;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
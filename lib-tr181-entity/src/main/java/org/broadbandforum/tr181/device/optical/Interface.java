@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.optical;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
 import org.broadbandforum.common.Dbm1000;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.optical._interface.Stats;
 
 	/**
@@ -203,6 +206,16 @@ public class Interface {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -229,6 +242,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -242,6 +256,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -275,6 +290,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -292,6 +308,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -313,6 +330,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -324,6 +343,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -345,6 +366,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -356,6 +379,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -377,6 +402,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -388,6 +414,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -404,6 +431,19 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}}  {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}}  {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -414,6 +454,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -427,6 +468,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -464,6 +506,7 @@ public class Interface {
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -483,6 +526,7 @@ public class Interface {
 	 */
 	public Interface withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -516,6 +560,7 @@ public class Interface {
 	 */
 	public void  setOpticalSignalLevel(Dbm1000 opticalSignalLevel) {
 		this.opticalSignalLevel = opticalSignalLevel;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -533,6 +578,7 @@ public class Interface {
 	 */
 	public Interface withOpticalSignalLevel(Dbm1000 opticalSignalLevel) {
 		this.opticalSignalLevel = opticalSignalLevel;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -566,6 +612,7 @@ public class Interface {
 	 */
 	public void  setLowerOpticalThreshold(Dbm1000 lowerOpticalThreshold) {
 		this.lowerOpticalThreshold = lowerOpticalThreshold;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -583,6 +630,7 @@ public class Interface {
 	 */
 	public Interface withLowerOpticalThreshold(Dbm1000 lowerOpticalThreshold) {
 		this.lowerOpticalThreshold = lowerOpticalThreshold;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -616,6 +664,7 @@ public class Interface {
 	 */
 	public void  setUpperOpticalThreshold(Dbm1000 upperOpticalThreshold) {
 		this.upperOpticalThreshold = upperOpticalThreshold;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -633,6 +682,7 @@ public class Interface {
 	 */
 	public Interface withUpperOpticalThreshold(Dbm1000 upperOpticalThreshold) {
 		this.upperOpticalThreshold = upperOpticalThreshold;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -666,6 +716,7 @@ public class Interface {
 	 */
 	public void  setTransmitOpticalLevel(Dbm1000 transmitOpticalLevel) {
 		this.transmitOpticalLevel = transmitOpticalLevel;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -683,6 +734,7 @@ public class Interface {
 	 */
 	public Interface withTransmitOpticalLevel(Dbm1000 transmitOpticalLevel) {
 		this.transmitOpticalLevel = transmitOpticalLevel;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -716,6 +768,7 @@ public class Interface {
 	 */
 	public void  setLowerTransmitPowerThreshold(Dbm1000 lowerTransmitPowerThreshold) {
 		this.lowerTransmitPowerThreshold = lowerTransmitPowerThreshold;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -733,6 +786,7 @@ public class Interface {
 	 */
 	public Interface withLowerTransmitPowerThreshold(Dbm1000 lowerTransmitPowerThreshold) {
 		this.lowerTransmitPowerThreshold = lowerTransmitPowerThreshold;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -766,6 +820,7 @@ public class Interface {
 	 */
 	public void  setUpperTransmitPowerThreshold(Dbm1000 upperTransmitPowerThreshold) {
 		this.upperTransmitPowerThreshold = upperTransmitPowerThreshold;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -783,6 +838,7 @@ public class Interface {
 	 */
 	public Interface withUpperTransmitPowerThreshold(Dbm1000 upperTransmitPowerThreshold) {
 		this.upperTransmitPowerThreshold = upperTransmitPowerThreshold;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
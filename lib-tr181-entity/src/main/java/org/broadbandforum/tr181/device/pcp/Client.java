@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.pcp;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.pcp.client.PCPProxy;
 import org.broadbandforum.tr181.device.pcp.client.Server;
 import org.broadbandforum.tr181.device.pcp.client.UPnPIWF;
@@ -146,6 +148,16 @@ public class Client {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Server> servers;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Client() {
 	}
 
@@ -168,6 +180,7 @@ public class Client {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -179,6 +192,7 @@ public class Client {
 	 */
 	public Client withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -200,6 +214,8 @@ public class Client {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -211,6 +227,8 @@ public class Client {
 	 */
 	public Client withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -232,6 +250,8 @@ public class Client {
 	 */
 	public void  setWanInterface(String wanInterface) {
 		this.wanInterface = wanInterface;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -243,6 +263,8 @@ public class Client {
 	 */
 	public Client withWanInterface(String wanInterface) {
 		this.wanInterface = wanInterface;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -268,6 +290,7 @@ public class Client {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -281,6 +304,7 @@ public class Client {
 	 */
 	public Client withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -302,6 +326,7 @@ public class Client {
 	 */
 	public void  setMapEnable(Boolean mapEnable) {
 		this.mapEnable = mapEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -313,6 +338,7 @@ public class Client {
 	 */
 	public Client withMapEnable(Boolean mapEnable) {
 		this.mapEnable = mapEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -334,6 +360,7 @@ public class Client {
 	 */
 	public void  setPeeREnable(Boolean peeREnable) {
 		this.peeREnable = peeREnable;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -345,6 +372,7 @@ public class Client {
 	 */
 	public Client withPeeREnable(Boolean peeREnable) {
 		this.peeREnable = peeREnable;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -370,6 +398,7 @@ public class Client {
 	 */
 	public void  setAnnOUNCEEnable(Boolean annOUNCEEnable) {
 		this.annOUNCEEnable = annOUNCEEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -383,6 +412,7 @@ public class Client {
 	 */
 	public Client withAnnOUNCEEnable(Boolean annOUNCEEnable) {
 		this.annOUNCEEnable = annOUNCEEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -404,6 +434,7 @@ public class Client {
 	 */
 	public void  setThiRDPARTYEnable(Boolean thiRDPARTYEnable) {
 		this.thiRDPARTYEnable = thiRDPARTYEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -415,6 +446,7 @@ public class Client {
 	 */
 	public Client withThiRDPARTYEnable(Boolean thiRDPARTYEnable) {
 		this.thiRDPARTYEnable = thiRDPARTYEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -440,6 +472,7 @@ public class Client {
 	 */
 	public void  setThiRDPARTYStatus(String thiRDPARTYStatus) {
 		this.thiRDPARTYStatus = thiRDPARTYStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -453,6 +486,7 @@ public class Client {
 	 */
 	public Client withThiRDPARTYStatus(String thiRDPARTYStatus) {
 		this.thiRDPARTYStatus = thiRDPARTYStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -474,6 +508,7 @@ public class Client {
 	 */
 	public void  setFilTEREnable(Boolean filTEREnable) {
 		this.filTEREnable = filTEREnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -485,6 +520,7 @@ public class Client {
 	 */
 	public Client withFilTEREnable(Boolean filTEREnable) {
 		this.filTEREnable = filTEREnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -554,10 +590,22 @@ public class Client {
 	 * @return the value
 	 */
 	public Collection<Server> getServers() {
-		if (this.servers == null){ this.servers=new ArrayList<>();}
+		if (!(this.servers instanceof InstanceTable)){ this.servers=InstanceTable.of(this.servers);}
 		return servers;
 	}
 
+	/**
+	 * Read the this table contains the PCP Servers to be used by the PCP Client. Entries are either statically configured or automatically created via DHCP options OPTION_V4_PCP_SERVER and OPTION_V6_PCP_SERVER, as per {{bibref|RFC7291}}.
+
+        Each OPTION_V4_PCP_SERVER or OPTION_V6_PCP_SERVER option corresponds to a {{object}} instance.  If an option returns multiple addresses then that {{object}} instance has multiple addresses.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Server> viewServers() {
+		return servers == null ? Collections.emptyList() : servers;
+	}
+
 	/**
 	 * Set the this table contains the PCP Servers to be used by the PCP Client. Entries are either statically configured or automatically created via DHCP options OPTION_V4_PCP_SERVER and OPTION_V6_PCP_SERVER, as per {{bibref|RFC7291}}.
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Properties for the Port Control Protocol (PCP) Proxy, as specified in {{bibref|PCPProxy}}.
@@ -63,6 +64,11 @@ public class PCPProxy {
 	@XmlElement(name = "Status")
 	public String status;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PCPProxy() {
 	}
 
@@ -85,6 +91,7 @@ public class PCPProxy {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -96,6 +103,7 @@ public class PCPProxy {
 	 */
 	public PCPProxy withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class PCPProxy {
 	 */
 	public void  setHighestVersion(Long highestVersion) {
 		this.highestVersion = highestVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -134,6 +143,7 @@ public class PCPProxy {
 	 */
 	public PCPProxy withHighestVersion(Long highestVersion) {
 		this.highestVersion = highestVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -159,6 +169,7 @@ public class PCPProxy {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -172,6 +183,7 @@ public class PCPProxy {
 	 */
 	public PCPProxy withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
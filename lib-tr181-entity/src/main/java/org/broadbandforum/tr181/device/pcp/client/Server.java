@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.pcp.client;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,7 +30,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.pcp.client.server.InboundMapping;
 import org.broadbandforum.tr181.device.pcp.client.server.OutboundMapping;
 
@@ -187,6 +190,16 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	@CWMPParameter(access = "readWrite")
 	public Collection<OutboundMapping> outboundMappings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Server() {
 	}
 
@@ -209,6 +222,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -220,6 +234,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -245,6 +260,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -258,6 +274,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -279,6 +296,8 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -290,6 +309,8 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -315,6 +336,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -328,6 +350,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -349,6 +372,8 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setServerNameOrAddress(String serverNameOrAddress) {
 		this.serverNameOrAddress = serverNameOrAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -360,6 +385,8 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withServerNameOrAddress(String serverNameOrAddress) {
 		this.serverNameOrAddress = serverNameOrAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -385,6 +412,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setServerAddressInUse(IPAddress serverAddressInUse) {
 		this.serverAddressInUse = serverAddressInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -398,6 +426,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withServerAddressInUse(IPAddress serverAddressInUse) {
 		this.serverAddressInUse = serverAddressInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -419,6 +448,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setAdditionalServerAddresses(IPAddress additionalServerAddresses) {
 		this.additionalServerAddresses = additionalServerAddresses;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -430,6 +460,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withAdditionalServerAddresses(IPAddress additionalServerAddresses) {
 		this.additionalServerAddresses = additionalServerAddresses;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -451,6 +482,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -462,6 +494,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withExternalIPAddress(IPAddress externalIPAddress) {
 		this.externalIPAddress = externalIPAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -487,6 +520,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setCurrentVersion(Long currentVersion) {
 		this.currentVersion = currentVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -500,6 +534,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withCurrentVersion(Long currentVersion) {
 		this.currentVersion = currentVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -521,6 +556,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setMaximumFilters(Long maximumFilters) {
 		this.maximumFilters = maximumFilters;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -532,6 +568,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withMaximumFilters(Long maximumFilters) {
 		this.maximumFilters = maximumFilters;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -557,6 +594,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setPortQuota(Long portQuota) {
 		this.portQuota = portQuota;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -570,6 +608,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withPortQuota(Long portQuota) {
 		this.portQuota = portQuota;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -591,6 +630,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setPreferredLifetime(Long preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -602,6 +642,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withPreferredLifetime(Long preferredLifetime) {
 		this.preferredLifetime = preferredLifetime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -618,6 +659,19 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 		return capabilities;
 	}
 
+	/**
+	 * Read the indicates the capabilities supported by the PCP Server. 
+
+Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRangeRouter, SupportsPORTSETOption, IPv4Firewall, IPv6Firewall, NPTv6, DSCPReMarkingFunction, FLOWDATAAwareFunction, ILNPTranslator]
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCapabilities() {
+		return capabilities == null ? Collections.emptyList() : capabilities;
+	}
+
 	/**
 	 * Set the indicates the capabilities supported by the PCP Server. 
 
@@ -628,6 +682,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public void  setCapabilities(Collection<String> capabilities) {
 		this.capabilities = capabilities;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -641,6 +696,7 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 */
 	public Server withCapabilities(String string) {
 		getCapabilities().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -656,10 +712,26 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 * @return the value
 	 */
 	public Collection<InboundMapping> getInboundMappings() {
-		if (this.inboundMappings == null){ this.inboundMappings=new ArrayList<>();}
+		if (!(this.inboundMappings instanceof InstanceTable)){ this.inboundMappings=InstanceTable.of(this.inboundMappings);}
 		return inboundMappings;
 	}
 
+	/**
+	 * Read the inbound Mapping table.
+
+        This table contains all Inbound Mappings requested by this PCP Client on this PCP Server. Such a mapping is created by a PCP request with OpCode MAP, as described in {{bibref|RFC6887|Section 11}}.
+
+        These requests can be issued from internal device applications, from static configuration or from other LAN device applications via interworking functions such as UPnP IGD or PCP proxies.  The {{param|Origin}} parameter indicates which mechanism requested the mapping.
+
+        For non-{{enum|Static|Origin}} mappings (here ''Static'' refers to the mechanism that created the mapping, not to the {{param|Lifetime}}), the ACS MAY modify the {{param||Enable}} parameter but MUST NOT modify any other parameters in the mapping or its sub-objects.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InboundMapping> viewInboundMappings() {
+		return inboundMappings == null ? Collections.emptyList() : inboundMappings;
+	}
+
 	/**
 	 * Set the inbound Mapping table.
 
@@ -704,10 +776,26 @@ Enumerated value must be one of [NAT44, StatelessNAT64, StatefulNAT64, A+PPortRa
 	 * @return the value
 	 */
 	public Collection<OutboundMapping> getOutboundMappings() {
-		if (this.outboundMappings == null){ this.outboundMappings=new ArrayList<>();}
+		if (!(this.outboundMappings instanceof InstanceTable)){ this.outboundMappings=InstanceTable.of(this.outboundMappings);}
 		return outboundMappings;
 	}
 
+	/**
+	 * Read the outbound Mapping table.
+
+        This table contains all Outbound Mappings requested by this PCP Client on this PCP Server. Such a mapping is created by a PCP request with OpCode PEER, as described in {{bibref|RFC6887|Section 12}}.
+
+        These requests can be issued from internal device applications, from static configuration or from other LAN device applications via interworking functions such as UPnP IGD or PCP proxies. The {{param|Origin}} parameter indicates which mechanism requested the mapping.
+
+        For non-{{enum|Static|Origin}} mappings (here ''Static'' refers to the mechanism that created the mapping, not to the {{param|Lifetime}}), the ACS MAY modify the {{param||Enable}} parameter but MUST NOT modify any other parameters in the mapping or its sub-objects.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<OutboundMapping> viewOutboundMappings() {
+		return outboundMappings == null ? Collections.emptyList() : outboundMappings;
+	}
+
 	/**
 	 * Set the outbound Mapping table.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.pcp.client.server;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,7 +28,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.pcp.client.server.inboundmapping.Filter;
 
 	/**
@@ -217,6 +219,16 @@ public class InboundMapping {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Filter> filters;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InboundMapping() {
 	}
 
@@ -239,6 +251,7 @@ public class InboundMapping {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -250,6 +263,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -279,6 +293,7 @@ public class InboundMapping {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -294,6 +309,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -315,6 +331,7 @@ public class InboundMapping {
 	 */
 	public void  setErrorCode(Long errorCode) {
 		this.errorCode = errorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -326,6 +343,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withErrorCode(Long errorCode) {
 		this.errorCode = errorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -347,6 +365,8 @@ public class InboundMapping {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -358,6 +378,8 @@ public class InboundMapping {
 	 */
 	public InboundMapping withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -379,6 +401,7 @@ public class InboundMapping {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -390,6 +413,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -419,6 +443,7 @@ public class InboundMapping {
 	 */
 	public void  setLifetime(Long lifetime) {
 		this.lifetime = lifetime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -434,6 +459,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withLifetime(Long lifetime) {
 		this.lifetime = lifetime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -459,6 +485,7 @@ public class InboundMapping {
 	 */
 	public void  setSuggestedExternalIPAddress(IPAddress suggestedExternalIPAddress) {
 		this.suggestedExternalIPAddress = suggestedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -472,6 +499,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withSuggestedExternalIPAddress(IPAddress suggestedExternalIPAddress) {
 		this.suggestedExternalIPAddress = suggestedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -497,6 +525,7 @@ public class InboundMapping {
 	 */
 	public void  setSuggestedExternalPort(Long suggestedExternalPort) {
 		this.suggestedExternalPort = suggestedExternalPort;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -510,6 +539,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withSuggestedExternalPort(Long suggestedExternalPort) {
 		this.suggestedExternalPort = suggestedExternalPort;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -547,6 +577,7 @@ public class InboundMapping {
 	 */
 	public void  setSuggestedExternalPortEndRange(Long suggestedExternalPortEndRange) {
 		this.suggestedExternalPortEndRange = suggestedExternalPortEndRange;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -566,6 +597,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withSuggestedExternalPortEndRange(Long suggestedExternalPortEndRange) {
 		this.suggestedExternalPortEndRange = suggestedExternalPortEndRange;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -587,6 +619,8 @@ public class InboundMapping {
 	 */
 	public void  setInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -598,6 +632,8 @@ public class InboundMapping {
 	 */
 	public InboundMapping withInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -623,6 +659,8 @@ public class InboundMapping {
 	 */
 	public void  setProtocolNumber(Integer protocolNumber) {
 		this.protocolNumber = protocolNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -636,6 +674,8 @@ public class InboundMapping {
 	 */
 	public InboundMapping withProtocolNumber(Integer protocolNumber) {
 		this.protocolNumber = protocolNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -661,6 +701,8 @@ public class InboundMapping {
 	 */
 	public void  setThirdPartyAddress(IPAddress thirdPartyAddress) {
 		this.thirdPartyAddress = thirdPartyAddress;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -674,6 +716,8 @@ public class InboundMapping {
 	 */
 	public InboundMapping withThirdPartyAddress(IPAddress thirdPartyAddress) {
 		this.thirdPartyAddress = thirdPartyAddress;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -695,6 +739,7 @@ public class InboundMapping {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -706,6 +751,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -727,6 +773,7 @@ public class InboundMapping {
 	 */
 	public void  setAssignedExternalIPAddress(IPAddress assignedExternalIPAddress) {
 		this.assignedExternalIPAddress = assignedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -738,6 +785,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withAssignedExternalIPAddress(IPAddress assignedExternalIPAddress) {
 		this.assignedExternalIPAddress = assignedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -759,6 +807,7 @@ public class InboundMapping {
 	 */
 	public void  setAssignedExternalPort(Long assignedExternalPort) {
 		this.assignedExternalPort = assignedExternalPort;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -770,6 +819,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withAssignedExternalPort(Long assignedExternalPort) {
 		this.assignedExternalPort = assignedExternalPort;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -799,6 +849,7 @@ public class InboundMapping {
 	 */
 	public void  setAssignedExternalPortEndRange(Long assignedExternalPortEndRange) {
 		this.assignedExternalPortEndRange = assignedExternalPortEndRange;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -814,6 +865,7 @@ public class InboundMapping {
 	 */
 	public InboundMapping withAssignedExternalPortEndRange(Long assignedExternalPortEndRange) {
 		this.assignedExternalPortEndRange = assignedExternalPortEndRange;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -825,10 +877,22 @@ public class InboundMapping {
 	 * @return the value
 	 */
 	public Collection<Filter> getFilters() {
-		if (this.filters == null){ this.filters=new ArrayList<>();}
+		if (!(this.filters instanceof InstanceTable)){ this.filters=InstanceTable.of(this.filters);}
 		return filters;
 	}
 
+	/**
+	 * Read the filter table.
+
+        This table contains all Filters restricting this Inbound Mapping, as defined in {{bibref|RFC6887|}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Filter> viewFilters() {
+		return filters == null ? Collections.emptyList() : filters;
+	}
+
 	/**
 	 * Set the filter table.
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Outbound Mapping table.
@@ -192,6 +194,16 @@ public class OutboundMapping {
 	@Size(min = 0, max = 65535)
 	public Long assignedExternalPort;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public OutboundMapping() {
 	}
 
@@ -214,6 +226,7 @@ public class OutboundMapping {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -225,6 +238,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -254,6 +268,7 @@ public class OutboundMapping {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -269,6 +284,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -290,6 +306,7 @@ public class OutboundMapping {
 	 */
 	public void  setErrorCode(Long errorCode) {
 		this.errorCode = errorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -301,6 +318,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withErrorCode(Long errorCode) {
 		this.errorCode = errorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -322,6 +340,8 @@ public class OutboundMapping {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -333,6 +353,8 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -354,6 +376,7 @@ public class OutboundMapping {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -365,6 +388,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -394,6 +418,7 @@ public class OutboundMapping {
 	 */
 	public void  setLifetime(Long lifetime) {
 		this.lifetime = lifetime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -409,6 +434,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withLifetime(Long lifetime) {
 		this.lifetime = lifetime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -434,6 +460,7 @@ public class OutboundMapping {
 	 */
 	public void  setSuggestedExternalIPAddress(IPAddress suggestedExternalIPAddress) {
 		this.suggestedExternalIPAddress = suggestedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -447,6 +474,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withSuggestedExternalIPAddress(IPAddress suggestedExternalIPAddress) {
 		this.suggestedExternalIPAddress = suggestedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -472,6 +500,7 @@ public class OutboundMapping {
 	 */
 	public void  setSuggestedExternalPort(Long suggestedExternalPort) {
 		this.suggestedExternalPort = suggestedExternalPort;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -485,6 +514,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withSuggestedExternalPort(Long suggestedExternalPort) {
 		this.suggestedExternalPort = suggestedExternalPort;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -506,6 +536,8 @@ public class OutboundMapping {
 	 */
 	public void  setRemoteHostIPAddress(IPAddress remoteHostIPAddress) {
 		this.remoteHostIPAddress = remoteHostIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -517,6 +549,8 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withRemoteHostIPAddress(IPAddress remoteHostIPAddress) {
 		this.remoteHostIPAddress = remoteHostIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -538,6 +572,8 @@ public class OutboundMapping {
 	 */
 	public void  setInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -549,6 +585,8 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withInternalPort(Long internalPort) {
 		this.internalPort = internalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -570,6 +608,8 @@ public class OutboundMapping {
 	 */
 	public void  setRemotePort(Long remotePort) {
 		this.remotePort = remotePort;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -581,6 +621,8 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withRemotePort(Long remotePort) {
 		this.remotePort = remotePort;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -606,6 +648,8 @@ public class OutboundMapping {
 	 */
 	public void  setProtocolNumber(Integer protocolNumber) {
 		this.protocolNumber = protocolNumber;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -619,6 +663,8 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withProtocolNumber(Integer protocolNumber) {
 		this.protocolNumber = protocolNumber;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -644,6 +690,8 @@ public class OutboundMapping {
 	 */
 	public void  setThirdPartyAddress(IPAddress thirdPartyAddress) {
 		this.thirdPartyAddress = thirdPartyAddress;
+		if (this.dirty != null){ this.dirty.set(12);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -657,6 +705,8 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withThirdPartyAddress(IPAddress thirdPartyAddress) {
 		this.thirdPartyAddress = thirdPartyAddress;
+		if (this.dirty != null){ this.dirty.set(12);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -678,6 +728,7 @@ public class OutboundMapping {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -689,6 +740,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -710,6 +762,7 @@ public class OutboundMapping {
 	 */
 	public void  setAssignedExternalIPAddress(IPAddress assignedExternalIPAddress) {
 		this.assignedExternalIPAddress = assignedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -721,6 +774,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withAssignedExternalIPAddress(IPAddress assignedExternalIPAddress) {
 		this.assignedExternalIPAddress = assignedExternalIPAddress;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -742,6 +796,7 @@ public class OutboundMapping {
 	 */
 	public void  setAssignedExternalPort(Long assignedExternalPort) {
 		this.assignedExternalPort = assignedExternalPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -753,6 +808,7 @@ public class OutboundMapping {
 	 */
 	public OutboundMapping withAssignedExternalPort(Long assignedExternalPort) {
 		this.assignedExternalPort = assignedExternalPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
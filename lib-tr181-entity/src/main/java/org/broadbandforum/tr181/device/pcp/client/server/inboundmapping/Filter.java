@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Filter table.
@@ -89,6 +91,16 @@ public class Filter {
 	@Size(min = 0, max = 65535)
 	public Long remotePortEndRange = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Filter() {
 	}
 
@@ -111,6 +123,8 @@ public class Filter {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -122,6 +136,8 @@ public class Filter {
 	 */
 	public Filter withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -143,6 +159,7 @@ public class Filter {
 	 */
 	public void  setRemoteHostIPAddress(IPAddress remoteHostIPAddress) {
 		this.remoteHostIPAddress = remoteHostIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +171,7 @@ public class Filter {
 	 */
 	public Filter withRemoteHostIPAddress(IPAddress remoteHostIPAddress) {
 		this.remoteHostIPAddress = remoteHostIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -175,6 +193,7 @@ public class Filter {
 	 */
 	public void  setPrefixLength(Long prefixLength) {
 		this.prefixLength = prefixLength;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +205,7 @@ public class Filter {
 	 */
 	public Filter withPrefixLength(Long prefixLength) {
 		this.prefixLength = prefixLength;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +231,7 @@ public class Filter {
 	 */
 	public void  setRemotePort(Long remotePort) {
 		this.remotePort = remotePort;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -224,6 +245,7 @@ public class Filter {
 	 */
 	public Filter withRemotePort(Long remotePort) {
 		this.remotePort = remotePort;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -253,6 +275,7 @@ public class Filter {
 	 */
 	public void  setRemotePortEndRange(Long remotePortEndRange) {
 		this.remotePortEndRange = remotePortEndRange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -268,6 +291,7 @@ public class Filter {
 	 */
 	public Filter withRemotePortEndRange(Long remotePortEndRange) {
 		this.remotePortEndRange = remotePortEndRange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -16,8 +16,8 @@
 package org.broadbandforum.tr181.device.periodicstatistics;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,10 +25,15 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.periodicstatistics.sampleset.Parameter;
 
 	/**
@@ -135,8 +140,9 @@ public class SampleSet {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "TimeReference")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime timeReference = LocalDateTime.parse("0001-01-01T00:00:00Z");;
+	public LocalDateTime timeReference = CWMPDateTime.UNKNOWN_TIME;
 	/**
 	 * The number of sample intervals to be collected before transitioning {{param|Status}} from {{enum|Enabled|Status}} to {{enum|Trigger|Status}} to {{enum|Enabled|Status}}.
 
@@ -173,7 +179,8 @@ public class SampleSet {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ReportStartTime")
-	public LocalDateTime reportStartTime = LocalDateTime.parse("");;
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
+	public LocalDateTime reportStartTime;
 	/**
 	 * The absolute time at which the sample interval for the last stored sample (for each statistic) ended.
 
@@ -182,7 +189,8 @@ public class SampleSet {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ReportEndTime")
-	public LocalDateTime reportEndTime = LocalDateTime.parse("");;
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
+	public LocalDateTime reportEndTime;
 	/**
 	 * {{list}} Each entry indicates the number of seconds during which data was collected during the sample interval.
 
@@ -207,6 +215,16 @@ public class SampleSet {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Parameter> parameters;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SampleSet() {
 	}
 
@@ -229,6 +247,8 @@ public class SampleSet {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -240,6 +260,8 @@ public class SampleSet {
 	 */
 	public SampleSet withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -265,6 +287,7 @@ public class SampleSet {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -278,6 +301,7 @@ public class SampleSet {
 	 */
 	public SampleSet withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -307,6 +331,7 @@ public class SampleSet {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -322,6 +347,7 @@ public class SampleSet {
 	 */
 	public SampleSet withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -343,6 +369,8 @@ public class SampleSet {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -354,6 +382,8 @@ public class SampleSet {
 	 */
 	public SampleSet withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -391,6 +421,7 @@ public class SampleSet {
 	 */
 	public void  setSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -410,6 +441,7 @@ public class SampleSet {
 	 */
 	public SampleSet withSampleInterval(Long sampleInterval) {
 		this.sampleInterval = sampleInterval;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -443,6 +475,7 @@ public class SampleSet {
 	 */
 	public void  setReportSamples(Long reportSamples) {
 		this.reportSamples = reportSamples;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -460,6 +493,7 @@ public class SampleSet {
 	 */
 	public SampleSet withReportSamples(Long reportSamples) {
 		this.reportSamples = reportSamples;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -513,6 +547,7 @@ public class SampleSet {
 	 */
 	public void  setTimeReference(LocalDateTime timeReference) {
 		this.timeReference = timeReference;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -540,6 +575,7 @@ public class SampleSet {
 	 */
 	public SampleSet withTimeReference(LocalDateTime timeReference) {
 		this.timeReference = timeReference;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -573,6 +609,7 @@ public class SampleSet {
 	 */
 	public void  setFetchSamples(Long fetchSamples) {
 		this.fetchSamples = fetchSamples;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -590,6 +627,7 @@ public class SampleSet {
 	 */
 	public SampleSet withFetchSamples(Long fetchSamples) {
 		this.fetchSamples = fetchSamples;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -627,6 +665,7 @@ public class SampleSet {
 	 */
 	public void  setForceSample(Boolean forceSample) {
 		this.forceSample = forceSample;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -646,6 +685,7 @@ public class SampleSet {
 	 */
 	public SampleSet withForceSample(Boolean forceSample) {
 		this.forceSample = forceSample;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -667,6 +707,7 @@ public class SampleSet {
 	 */
 	public void  setReportStartTime(LocalDateTime reportStartTime) {
 		this.reportStartTime = reportStartTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -678,6 +719,7 @@ public class SampleSet {
 	 */
 	public SampleSet withReportStartTime(LocalDateTime reportStartTime) {
 		this.reportStartTime = reportStartTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -703,6 +745,7 @@ public class SampleSet {
 	 */
 	public void  setReportEndTime(LocalDateTime reportEndTime) {
 		this.reportEndTime = reportEndTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -716,6 +759,7 @@ public class SampleSet {
 	 */
 	public SampleSet withReportEndTime(LocalDateTime reportEndTime) {
 		this.reportEndTime = reportEndTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -749,6 +793,7 @@ public class SampleSet {
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -766,6 +811,7 @@ public class SampleSet {
 	 */
 	public SampleSet withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -777,10 +823,22 @@ public class SampleSet {
 	 * @return the value
 	 */
 	public Collection<Parameter> getParameters() {
-		if (this.parameters == null){ this.parameters=new ArrayList<>();}
+		if (!(this.parameters instanceof InstanceTable)){ this.parameters=InstanceTable.of(this.parameters);}
 		return parameters;
 	}
 
+	/**
+	 * Read the periodic statistics parameter table for this sample set.  This table contains entries for parameters whose values are to be sampled.
+
+        Note that the comma-separated lists in this object (SampleSeconds, SuspectData and Values) only ever change (a) when first enabled, (b) when ForceSample is set to true (a "sneak preview" of the current sample), or (c) at the end of the sample interval.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Parameter> viewParameters() {
+		return parameters == null ? Collections.emptyList() : parameters;
+	}
+
 	/**
 	 * Set the periodic statistics parameter table for this sample set.  This table contains entries for parameters whose values are to be sampled.
 
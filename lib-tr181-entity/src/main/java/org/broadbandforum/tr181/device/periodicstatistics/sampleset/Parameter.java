@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.periodicstatistics.sampleset;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Periodic statistics parameter table for this sample set.  This table contains entries for parameters whose values are to be sampled.
@@ -174,6 +177,16 @@ public class Parameter {
 	@XmlElement(name = "Failures")
 	public Long failures = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Parameter() {
 	}
 
@@ -196,6 +209,8 @@ public class Parameter {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -207,6 +222,8 @@ public class Parameter {
 	 */
 	public Parameter withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -228,6 +245,7 @@ public class Parameter {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -239,6 +257,7 @@ public class Parameter {
 	 */
 	public Parameter withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +279,8 @@ public class Parameter {
 	 */
 	public void  setReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -271,6 +292,8 @@ public class Parameter {
 	 */
 	public Parameter withReference(String reference) {
 		this.reference = reference;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -296,6 +319,7 @@ public class Parameter {
 	 */
 	public void  setSampleMode(String sampleMode) {
 		this.sampleMode = sampleMode;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -309,6 +333,7 @@ public class Parameter {
 	 */
 	public Parameter withSampleMode(String sampleMode) {
 		this.sampleMode = sampleMode;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -338,6 +363,7 @@ public class Parameter {
 	 */
 	public void  setCalculationMode(String calculationMode) {
 		this.calculationMode = calculationMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -353,6 +379,7 @@ public class Parameter {
 	 */
 	public Parameter withCalculationMode(String calculationMode) {
 		this.calculationMode = calculationMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -382,6 +409,7 @@ public class Parameter {
 	 */
 	public void  setLowThreshold(Integer lowThreshold) {
 		this.lowThreshold = lowThreshold;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -397,6 +425,7 @@ public class Parameter {
 	 */
 	public Parameter withLowThreshold(Integer lowThreshold) {
 		this.lowThreshold = lowThreshold;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -426,6 +455,7 @@ public class Parameter {
 	 */
 	public void  setHighThreshold(Integer highThreshold) {
 		this.highThreshold = highThreshold;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -441,6 +471,7 @@ public class Parameter {
 	 */
 	public Parameter withHighThreshold(Integer highThreshold) {
 		this.highThreshold = highThreshold;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -474,6 +505,7 @@ public class Parameter {
 	 */
 	public void  setSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -491,6 +523,7 @@ public class Parameter {
 	 */
 	public Parameter withSampleSeconds(Long sampleSeconds) {
 		this.sampleSeconds = sampleSeconds;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -516,6 +549,7 @@ public class Parameter {
 	 */
 	public void  setSuspectData(Long suspectData) {
 		this.suspectData = suspectData;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -529,6 +563,7 @@ public class Parameter {
 	 */
 	public Parameter withSuspectData(Long suspectData) {
 		this.suspectData = suspectData;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -547,6 +582,21 @@ public class Parameter {
 		return values;
 	}
 
+	/**
+	 * Read the {{list}} Each entry indicates the value of the referenced parameter, as determined by {{param|SampleMode}}, during the sample interval.
+
+          The statistics values in this comma-separated lists MUST be in time order, with the oldest one first and the most recent one last.
+
+          If the {{param|SampleMode}} parameter is not present, or is inappropriate for the referenced parameter, the statistics values MUST be collected in Current mode.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewValues() {
+		return values == null ? Collections.emptyList() : values;
+	}
+
 	/**
 	 * Set the {{list}} Each entry indicates the value of the referenced parameter, as determined by {{param|SampleMode}}, during the sample interval.
 
@@ -559,6 +609,7 @@ public class Parameter {
 	 */
 	public void  setValues(Collection<String> values) {
 		this.values = values;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -574,6 +625,7 @@ public class Parameter {
 	 */
 	public Parameter withValues(String string) {
 		getValues().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -623,6 +675,7 @@ public class Parameter {
 	 */
 	public void  setFailures(Long failures) {
 		this.failures = failures;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -648,6 +701,7 @@ public class Parameter {
 	 */
 	public Parameter withFailures(Long failures) {
 		this.failures = failures;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
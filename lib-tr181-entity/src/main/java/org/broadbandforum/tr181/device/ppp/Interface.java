@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.ppp;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.ppp._interface.IPCP;
 import org.broadbandforum.tr181.device.ppp._interface.IPv6CP;
 import org.broadbandforum.tr181.device.ppp._interface.PPPoA;
@@ -278,6 +281,16 @@ public class Interface {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -304,6 +317,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -317,6 +331,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -350,6 +365,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -367,6 +383,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -388,6 +405,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -399,6 +418,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -420,6 +441,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -431,6 +454,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -452,6 +477,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -463,6 +489,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -477,6 +504,17 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 	 *
@@ -485,6 +523,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -496,6 +535,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -525,6 +565,7 @@ public class Interface {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -540,6 +581,7 @@ public class Interface {
 	 */
 	public Interface withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -561,6 +603,7 @@ public class Interface {
 	 */
 	public void  setConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -572,6 +615,7 @@ public class Interface {
 	 */
 	public Interface withConnectionStatus(String connectionStatus) {
 		this.connectionStatus = connectionStatus;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -593,6 +637,7 @@ public class Interface {
 	 */
 	public void  setLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -604,6 +649,7 @@ public class Interface {
 	 */
 	public Interface withLastConnectionError(String lastConnectionError) {
 		this.lastConnectionError = lastConnectionError;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -625,6 +671,7 @@ public class Interface {
 	 */
 	public void  setAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -636,6 +683,7 @@ public class Interface {
 	 */
 	public Interface withAutoDisconnectTime(Long autoDisconnectTime) {
 		this.autoDisconnectTime = autoDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -657,6 +705,7 @@ public class Interface {
 	 */
 	public void  setIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -668,6 +717,7 @@ public class Interface {
 	 */
 	public Interface withIdleDisconnectTime(Long idleDisconnectTime) {
 		this.idleDisconnectTime = idleDisconnectTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -689,6 +739,7 @@ public class Interface {
 	 */
 	public void  setWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -700,6 +751,7 @@ public class Interface {
 	 */
 	public Interface withWarnDisconnectDelay(Long warnDisconnectDelay) {
 		this.warnDisconnectDelay = warnDisconnectDelay;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -721,6 +773,7 @@ public class Interface {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -732,6 +785,7 @@ public class Interface {
 	 */
 	public Interface withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -753,6 +807,7 @@ public class Interface {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -764,6 +819,7 @@ public class Interface {
 	 */
 	public Interface withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -785,6 +841,7 @@ public class Interface {
 	 */
 	public void  setEncryptionProtocol(String encryptionProtocol) {
 		this.encryptionProtocol = encryptionProtocol;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -796,6 +853,7 @@ public class Interface {
 	 */
 	public Interface withEncryptionProtocol(String encryptionProtocol) {
 		this.encryptionProtocol = encryptionProtocol;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -817,6 +875,7 @@ public class Interface {
 	 */
 	public void  setCompressionProtocol(String compressionProtocol) {
 		this.compressionProtocol = compressionProtocol;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -828,6 +887,7 @@ public class Interface {
 	 */
 	public Interface withCompressionProtocol(String compressionProtocol) {
 		this.compressionProtocol = compressionProtocol;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -849,6 +909,7 @@ public class Interface {
 	 */
 	public void  setAuthenticationProtocol(String authenticationProtocol) {
 		this.authenticationProtocol = authenticationProtocol;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -860,6 +921,7 @@ public class Interface {
 	 */
 	public Interface withAuthenticationProtocol(String authenticationProtocol) {
 		this.authenticationProtocol = authenticationProtocol;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -881,6 +943,7 @@ public class Interface {
 	 */
 	public void  setMaxMRUSize(Long maxMRUSize) {
 		this.maxMRUSize = maxMRUSize;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -892,6 +955,7 @@ public class Interface {
 	 */
 	public Interface withMaxMRUSize(Long maxMRUSize) {
 		this.maxMRUSize = maxMRUSize;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -913,6 +977,7 @@ public class Interface {
 	 */
 	public void  setCurrentMRUSize(Long currentMRUSize) {
 		this.currentMRUSize = currentMRUSize;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -924,6 +989,7 @@ public class Interface {
 	 */
 	public Interface withCurrentMRUSize(Long currentMRUSize) {
 		this.currentMRUSize = currentMRUSize;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -949,6 +1015,7 @@ public class Interface {
 	 */
 	public void  setConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -962,6 +1029,7 @@ public class Interface {
 	 */
 	public Interface withConnectionTrigger(String connectionTrigger) {
 		this.connectionTrigger = connectionTrigger;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -983,6 +1051,7 @@ public class Interface {
 	 */
 	public void  setLcpEcho(Long lcpEcho) {
 		this.lcpEcho = lcpEcho;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -994,6 +1063,7 @@ public class Interface {
 	 */
 	public Interface withLcpEcho(Long lcpEcho) {
 		this.lcpEcho = lcpEcho;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1015,6 +1085,7 @@ public class Interface {
 	 */
 	public void  setLcpEchoRetry(Long lcpEchoRetry) {
 		this.lcpEchoRetry = lcpEchoRetry;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1026,6 +1097,7 @@ public class Interface {
 	 */
 	public Interface withLcpEchoRetry(Long lcpEchoRetry) {
 		this.lcpEchoRetry = lcpEchoRetry;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1047,6 +1119,7 @@ public class Interface {
 	 */
 	public void  setIpcPEnable(Boolean ipcPEnable) {
 		this.ipcPEnable = ipcPEnable;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1058,6 +1131,7 @@ public class Interface {
 	 */
 	public Interface withIpcPEnable(Boolean ipcPEnable) {
 		this.ipcPEnable = ipcPEnable;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1079,6 +1153,7 @@ public class Interface {
 	 */
 	public void  setIpv6CPEnable(Boolean ipv6CPEnable) {
 		this.ipv6CPEnable = ipv6CPEnable;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1090,6 +1165,7 @@ public class Interface {
 	 */
 	public Interface withIpv6CPEnable(Boolean ipv6CPEnable) {
 		this.ipv6CPEnable = ipv6CPEnable;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
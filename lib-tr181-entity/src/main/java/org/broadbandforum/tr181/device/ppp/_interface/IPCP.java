@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
 
 	/**
@@ -77,6 +78,11 @@ public class IPCP {
 	@Size(max = 256)
 	public String passthroughDHCPPool;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPCP() {
 	}
 
@@ -99,6 +105,7 @@ public class IPCP {
 	 */
 	public void  setLocalIPAddress(IPv4Address localIPAddress) {
 		this.localIPAddress = localIPAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +117,7 @@ public class IPCP {
 	 */
 	public IPCP withLocalIPAddress(IPv4Address localIPAddress) {
 		this.localIPAddress = localIPAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +139,7 @@ public class IPCP {
 	 */
 	public void  setRemoteIPAddress(IPv4Address remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -142,6 +151,7 @@ public class IPCP {
 	 */
 	public IPCP withRemoteIPAddress(IPv4Address remoteIPAddress) {
 		this.remoteIPAddress = remoteIPAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -163,6 +173,7 @@ public class IPCP {
 	 */
 	public void  setDnsServers(IPv4Address dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -174,6 +185,7 @@ public class IPCP {
 	 */
 	public IPCP withDnsServers(IPv4Address dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -199,6 +211,7 @@ public class IPCP {
 	 */
 	public void  setPassthroughEnable(Boolean passthroughEnable) {
 		this.passthroughEnable = passthroughEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -212,6 +225,7 @@ public class IPCP {
 	 */
 	public IPCP withPassthroughEnable(Boolean passthroughEnable) {
 		this.passthroughEnable = passthroughEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -233,6 +247,7 @@ public class IPCP {
 	 */
 	public void  setPassthroughDHCPPool(String passthroughDHCPPool) {
 		this.passthroughDHCPPool = passthroughDHCPPool;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -244,6 +259,7 @@ public class IPCP {
 	 */
 	public IPCP withPassthroughDHCPPool(String passthroughDHCPPool) {
 		this.passthroughDHCPPool = passthroughDHCPPool;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Address;
 
 	/**
@@ -53,6 +54,11 @@ public class IPv6CP {
 	@XmlElement(name = "RemoteInterfaceIdentifier")
 	public IPv6Address remoteInterfaceIdentifier;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IPv6CP() {
 	}
 
@@ -79,6 +85,7 @@ public class IPv6CP {
 	 */
 	public void  setLocalInterfaceIdentifier(IPv6Address localInterfaceIdentifier) {
 		this.localInterfaceIdentifier = localInterfaceIdentifier;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ public class IPv6CP {
 	 */
 	public IPv6CP withLocalInterfaceIdentifier(IPv6Address localInterfaceIdentifier) {
 		this.localInterfaceIdentifier = localInterfaceIdentifier;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -117,6 +125,7 @@ public class IPv6CP {
 	 */
 	public void  setRemoteInterfaceIdentifier(IPv6Address remoteInterfaceIdentifier) {
 		this.remoteInterfaceIdentifier = remoteInterfaceIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -130,6 +139,7 @@ public class IPv6CP {
 	 */
 	public IPv6CP withRemoteInterfaceIdentifier(IPv6Address remoteInterfaceIdentifier) {
 		this.remoteInterfaceIdentifier = remoteInterfaceIdentifier;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * PPPoE object that functionally groups PPPoE related parameters.
@@ -62,6 +63,11 @@ public class PPPoE {
 	@Size(max = 256)
 	public String serviceName;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PPPoE() {
 	}
 
@@ -84,6 +90,7 @@ public class PPPoE {
 	 */
 	public void  setSessionID(Long sessionID) {
 		this.sessionID = sessionID;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ public class PPPoE {
 	 */
 	public PPPoE withSessionID(Long sessionID) {
 		this.sessionID = sessionID;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class PPPoE {
 	 */
 	public void  setAcname(String acname) {
 		this.acname = acname;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ public class PPPoE {
 	 */
 	public PPPoE withAcname(String acname) {
 		this.acname = acname;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class PPPoE {
 	 */
 	public void  setServiceName(String serviceName) {
 		this.serviceName = serviceName;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -159,6 +170,7 @@ public class PPPoE {
 	 */
 	public PPPoE withServiceName(String serviceName) {
 		this.serviceName = serviceName;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
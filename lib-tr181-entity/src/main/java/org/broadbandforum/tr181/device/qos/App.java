@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Application table.
@@ -147,6 +149,16 @@ public class App {
 	@Size(min = -2)
 	public Integer defaultInnerEthernetPriorityMark;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public App() {
 	}
 
@@ -169,6 +181,7 @@ public class App {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -180,6 +193,7 @@ public class App {
 	 */
 	public App withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -205,6 +219,7 @@ public class App {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -218,6 +233,7 @@ public class App {
 	 */
 	public App withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -239,6 +255,8 @@ public class App {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -250,6 +268,8 @@ public class App {
 	 */
 	public App withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -271,6 +291,7 @@ public class App {
 	 */
 	public void  setProtocolIdentifier(String protocolIdentifier) {
 		this.protocolIdentifier = protocolIdentifier;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -282,6 +303,7 @@ public class App {
 	 */
 	public App withProtocolIdentifier(String protocolIdentifier) {
 		this.protocolIdentifier = protocolIdentifier;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -303,6 +325,7 @@ public class App {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -314,6 +337,7 @@ public class App {
 	 */
 	public App withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -335,6 +359,7 @@ public class App {
 	 */
 	public void  setDefaultForwardingPolicy(Long defaultForwardingPolicy) {
 		this.defaultForwardingPolicy = defaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -346,6 +371,7 @@ public class App {
 	 */
 	public App withDefaultForwardingPolicy(Long defaultForwardingPolicy) {
 		this.defaultForwardingPolicy = defaultForwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -367,6 +393,7 @@ public class App {
 	 */
 	public void  setDefaultTrafficClass(Long defaultTrafficClass) {
 		this.defaultTrafficClass = defaultTrafficClass;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -378,6 +405,7 @@ public class App {
 	 */
 	public App withDefaultTrafficClass(Long defaultTrafficClass) {
 		this.defaultTrafficClass = defaultTrafficClass;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -403,6 +431,7 @@ public class App {
 	 */
 	public void  setDefaultPolicer(String defaultPolicer) {
 		this.defaultPolicer = defaultPolicer;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -416,6 +445,7 @@ public class App {
 	 */
 	public App withDefaultPolicer(String defaultPolicer) {
 		this.defaultPolicer = defaultPolicer;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -445,6 +475,7 @@ public class App {
 	 */
 	public void  setDefaultDSCPMark(Integer defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -460,6 +491,7 @@ public class App {
 	 */
 	public App withDefaultDSCPMark(Integer defaultDSCPMark) {
 		this.defaultDSCPMark = defaultDSCPMark;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -489,6 +521,7 @@ public class App {
 	 */
 	public void  setDefaultEthernetPriorityMark(Integer defaultEthernetPriorityMark) {
 		this.defaultEthernetPriorityMark = defaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -504,6 +537,7 @@ public class App {
 	 */
 	public App withDefaultEthernetPriorityMark(Integer defaultEthernetPriorityMark) {
 		this.defaultEthernetPriorityMark = defaultEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -533,6 +567,7 @@ public class App {
 	 */
 	public void  setDefaultInnerEthernetPriorityMark(Integer defaultInnerEthernetPriorityMark) {
 		this.defaultInnerEthernetPriorityMark = defaultInnerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -548,6 +583,7 @@ public class App {
 	 */
 	public App withDefaultInnerEthernetPriorityMark(Integer defaultInnerEthernetPriorityMark) {
 		this.defaultInnerEthernetPriorityMark = defaultInnerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
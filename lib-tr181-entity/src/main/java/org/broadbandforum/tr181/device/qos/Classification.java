@@ -25,8 +25,10 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 import org.broadbandforum.common.IPPrefix;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -1000,6 +1002,16 @@ public class Classification {
 	@Size(max = 256)
 	public String app;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Classification() {
 	}
 
@@ -1022,6 +1034,7 @@ public class Classification {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -1033,6 +1046,7 @@ public class Classification {
 	 */
 	public Classification withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -1062,6 +1076,7 @@ public class Classification {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -1077,6 +1092,7 @@ public class Classification {
 	 */
 	public Classification withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -1106,6 +1122,7 @@ public class Classification {
 	 */
 	public void  setOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -1121,6 +1138,7 @@ public class Classification {
 	 */
 	public Classification withOrder(Long order) {
 		this.order = order;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -1142,6 +1160,8 @@ public class Classification {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -1153,6 +1173,8 @@ public class Classification {
 	 */
 	public Classification withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -1178,6 +1200,7 @@ public class Classification {
 	 */
 	public void  setDhcPType(String dhcPType) {
 		this.dhcPType = dhcPType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -1191,6 +1214,7 @@ public class Classification {
 	 */
 	public Classification withDhcPType(String dhcPType) {
 		this.dhcPType = dhcPType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -1220,6 +1244,7 @@ public class Classification {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -1235,6 +1260,7 @@ public class Classification {
 	 */
 	public Classification with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -1256,6 +1282,7 @@ public class Classification {
 	 */
 	public void  setAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -1267,6 +1294,7 @@ public class Classification {
 	 */
 	public Classification withAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -1292,6 +1320,7 @@ public class Classification {
 	 */
 	public void  setDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -1305,6 +1334,7 @@ public class Classification {
 	 */
 	public Classification withDestIP(IPAddress destIP) {
 		this.destIP = destIP;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -1326,6 +1356,7 @@ public class Classification {
 	 */
 	public void  setDestMask(IPPrefix destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -1337,6 +1368,7 @@ public class Classification {
 	 */
 	public Classification withDestMask(IPPrefix destMask) {
 		this.destMask = destMask;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -1362,6 +1394,7 @@ public class Classification {
 	 */
 	public void  setDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -1375,6 +1408,7 @@ public class Classification {
 	 */
 	public Classification withDestIPExclude(Boolean destIPExclude) {
 		this.destIPExclude = destIPExclude;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -1400,6 +1434,7 @@ public class Classification {
 	 */
 	public void  setSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -1413,6 +1448,7 @@ public class Classification {
 	 */
 	public Classification withSourceIP(IPAddress sourceIP) {
 		this.sourceIP = sourceIP;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -1434,6 +1470,7 @@ public class Classification {
 	 */
 	public void  setSourceMask(IPPrefix sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -1445,6 +1482,7 @@ public class Classification {
 	 */
 	public Classification withSourceMask(IPPrefix sourceMask) {
 		this.sourceMask = sourceMask;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1470,6 +1508,7 @@ public class Classification {
 	 */
 	public void  setSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1483,6 +1522,7 @@ public class Classification {
 	 */
 	public Classification withSourceIPExclude(Boolean sourceIPExclude) {
 		this.sourceIPExclude = sourceIPExclude;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1508,6 +1548,7 @@ public class Classification {
 	 */
 	public void  setProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1521,6 +1562,7 @@ public class Classification {
 	 */
 	public Classification withProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1546,6 +1588,7 @@ public class Classification {
 	 */
 	public void  setProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1559,6 +1602,7 @@ public class Classification {
 	 */
 	public Classification withProtocolExclude(Boolean protocolExclude) {
 		this.protocolExclude = protocolExclude;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1584,6 +1628,7 @@ public class Classification {
 	 */
 	public void  setDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1597,6 +1642,7 @@ public class Classification {
 	 */
 	public Classification withDestPort(Integer destPort) {
 		this.destPort = destPort;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1626,6 +1672,7 @@ public class Classification {
 	 */
 	public void  setDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1641,6 +1688,7 @@ public class Classification {
 	 */
 	public Classification withDestPortRangeMax(Integer destPortRangeMax) {
 		this.destPortRangeMax = destPortRangeMax;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1666,6 +1714,7 @@ public class Classification {
 	 */
 	public void  setDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1679,6 +1728,7 @@ public class Classification {
 	 */
 	public Classification withDestPortExclude(Boolean destPortExclude) {
 		this.destPortExclude = destPortExclude;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1704,6 +1754,7 @@ public class Classification {
 	 */
 	public void  setSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1717,6 +1768,7 @@ public class Classification {
 	 */
 	public Classification withSourcePort(Integer sourcePort) {
 		this.sourcePort = sourcePort;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1746,6 +1798,7 @@ public class Classification {
 	 */
 	public void  setSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1761,6 +1814,7 @@ public class Classification {
 	 */
 	public Classification withSourcePortRangeMax(Integer sourcePortRangeMax) {
 		this.sourcePortRangeMax = sourcePortRangeMax;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1786,6 +1840,7 @@ public class Classification {
 	 */
 	public void  setSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1799,6 +1854,7 @@ public class Classification {
 	 */
 	public Classification withSourcePortExclude(Boolean sourcePortExclude) {
 		this.sourcePortExclude = sourcePortExclude;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1824,6 +1880,7 @@ public class Classification {
 	 */
 	public void  setSourceMACAddress(MACAddress sourceMACAddress) {
 		this.sourceMACAddress = sourceMACAddress;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1837,6 +1894,7 @@ public class Classification {
 	 */
 	public Classification withSourceMACAddress(MACAddress sourceMACAddress) {
 		this.sourceMACAddress = sourceMACAddress;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1858,6 +1916,7 @@ public class Classification {
 	 */
 	public void  setSourceMACMask(MACAddress sourceMACMask) {
 		this.sourceMACMask = sourceMACMask;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1869,6 +1928,7 @@ public class Classification {
 	 */
 	public Classification withSourceMACMask(MACAddress sourceMACMask) {
 		this.sourceMACMask = sourceMACMask;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1894,6 +1954,7 @@ public class Classification {
 	 */
 	public void  setSourceMACExclude(Boolean sourceMACExclude) {
 		this.sourceMACExclude = sourceMACExclude;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1907,6 +1968,7 @@ public class Classification {
 	 */
 	public Classification withSourceMACExclude(Boolean sourceMACExclude) {
 		this.sourceMACExclude = sourceMACExclude;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1936,6 +1998,7 @@ public class Classification {
 	 */
 	public void  setDestMACAddress(MACAddress destMACAddress) {
 		this.destMACAddress = destMACAddress;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1951,6 +2014,7 @@ public class Classification {
 	 */
 	public Classification withDestMACAddress(MACAddress destMACAddress) {
 		this.destMACAddress = destMACAddress;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1972,6 +2036,7 @@ public class Classification {
 	 */
 	public void  setDestMACMask(MACAddress destMACMask) {
 		this.destMACMask = destMACMask;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1983,6 +2048,7 @@ public class Classification {
 	 */
 	public Classification withDestMACMask(MACAddress destMACMask) {
 		this.destMACMask = destMACMask;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -2008,6 +2074,7 @@ public class Classification {
 	 */
 	public void  setDestMACExclude(Boolean destMACExclude) {
 		this.destMACExclude = destMACExclude;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -2021,6 +2088,7 @@ public class Classification {
 	 */
 	public Classification withDestMACExclude(Boolean destMACExclude) {
 		this.destMACExclude = destMACExclude;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -2046,6 +2114,7 @@ public class Classification {
 	 */
 	public void  setEthertype(Integer ethertype) {
 		this.ethertype = ethertype;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -2059,6 +2128,7 @@ public class Classification {
 	 */
 	public Classification withEthertype(Integer ethertype) {
 		this.ethertype = ethertype;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -2084,6 +2154,7 @@ public class Classification {
 	 */
 	public void  setEthertypeExclude(Boolean ethertypeExclude) {
 		this.ethertypeExclude = ethertypeExclude;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -2097,6 +2168,7 @@ public class Classification {
 	 */
 	public Classification withEthertypeExclude(Boolean ethertypeExclude) {
 		this.ethertypeExclude = ethertypeExclude;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -2122,6 +2194,7 @@ public class Classification {
 	 */
 	public void  setSsaP(Integer ssaP) {
 		this.ssaP = ssaP;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -2135,6 +2208,7 @@ public class Classification {
 	 */
 	public Classification withSsaP(Integer ssaP) {
 		this.ssaP = ssaP;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -2160,6 +2234,7 @@ public class Classification {
 	 */
 	public void  setSsaPExclude(Boolean ssaPExclude) {
 		this.ssaPExclude = ssaPExclude;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -2173,6 +2248,7 @@ public class Classification {
 	 */
 	public Classification withSsaPExclude(Boolean ssaPExclude) {
 		this.ssaPExclude = ssaPExclude;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -2198,6 +2274,7 @@ public class Classification {
 	 */
 	public void  setDsaP(Integer dsaP) {
 		this.dsaP = dsaP;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -2211,6 +2288,7 @@ public class Classification {
 	 */
 	public Classification withDsaP(Integer dsaP) {
 		this.dsaP = dsaP;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -2236,6 +2314,7 @@ public class Classification {
 	 */
 	public void  setDsaPExclude(Boolean dsaPExclude) {
 		this.dsaPExclude = dsaPExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -2249,6 +2328,7 @@ public class Classification {
 	 */
 	public Classification withDsaPExclude(Boolean dsaPExclude) {
 		this.dsaPExclude = dsaPExclude;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -2274,6 +2354,7 @@ public class Classification {
 	 */
 	public void  setLlcControl(Integer llcControl) {
 		this.llcControl = llcControl;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -2287,6 +2368,7 @@ public class Classification {
 	 */
 	public Classification withLlcControl(Integer llcControl) {
 		this.llcControl = llcControl;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -2312,6 +2394,7 @@ public class Classification {
 	 */
 	public void  setLlcControlExclude(Boolean llcControlExclude) {
 		this.llcControlExclude = llcControlExclude;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -2325,6 +2408,7 @@ public class Classification {
 	 */
 	public Classification withLlcControlExclude(Boolean llcControlExclude) {
 		this.llcControlExclude = llcControlExclude;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -2350,6 +2434,7 @@ public class Classification {
 	 */
 	public void  setSnaPOUI(Integer snaPOUI) {
 		this.snaPOUI = snaPOUI;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -2363,6 +2448,7 @@ public class Classification {
 	 */
 	public Classification withSnaPOUI(Integer snaPOUI) {
 		this.snaPOUI = snaPOUI;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -2388,6 +2474,7 @@ public class Classification {
 	 */
 	public void  setSnaPOUIExclude(Boolean snaPOUIExclude) {
 		this.snaPOUIExclude = snaPOUIExclude;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -2401,6 +2488,7 @@ public class Classification {
 	 */
 	public Classification withSnaPOUIExclude(Boolean snaPOUIExclude) {
 		this.snaPOUIExclude = snaPOUIExclude;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -2438,6 +2526,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorClassID(String sourceVendorClassID) {
 		this.sourceVendorClassID = sourceVendorClassID;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -2457,6 +2546,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorClassID(String sourceVendorClassID) {
 		this.sourceVendorClassID = sourceVendorClassID;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -2490,6 +2580,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorClassIDv6(byte[] sourceVendorClassIDv6) {
 		this.sourceVendorClassIDv6 = sourceVendorClassIDv6;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -2507,6 +2598,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorClassIDv6(byte[] sourceVendorClassIDv6) {
 		this.sourceVendorClassIDv6 = sourceVendorClassIDv6;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
@@ -2532,6 +2624,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorClassIDExclude(Boolean sourceVendorClassIDExclude) {
 		this.sourceVendorClassIDExclude = sourceVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(39);}
 	}
 
 	/**
@@ -2545,6 +2638,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorClassIDExclude(Boolean sourceVendorClassIDExclude) {
 		this.sourceVendorClassIDExclude = sourceVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(39);}
 		return this;
 	}
 
@@ -2570,6 +2664,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorClassIDMode(String sourceVendorClassIDMode) {
 		this.sourceVendorClassIDMode = sourceVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(40);}
 	}
 
 	/**
@@ -2583,6 +2678,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorClassIDMode(String sourceVendorClassIDMode) {
 		this.sourceVendorClassIDMode = sourceVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(40);}
 		return this;
 	}
 
@@ -2620,6 +2716,7 @@ public class Classification {
 	 */
 	public void  setDestVendorClassID(String destVendorClassID) {
 		this.destVendorClassID = destVendorClassID;
+		if (this.dirty != null){ this.dirty.set(41);}
 	}
 
 	/**
@@ -2639,6 +2736,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorClassID(String destVendorClassID) {
 		this.destVendorClassID = destVendorClassID;
+		if (this.dirty != null){ this.dirty.set(41);}
 		return this;
 	}
 
@@ -2672,6 +2770,7 @@ public class Classification {
 	 */
 	public void  setDestVendorClassIDv6(byte[] destVendorClassIDv6) {
 		this.destVendorClassIDv6 = destVendorClassIDv6;
+		if (this.dirty != null){ this.dirty.set(42);}
 	}
 
 	/**
@@ -2689,6 +2788,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorClassIDv6(byte[] destVendorClassIDv6) {
 		this.destVendorClassIDv6 = destVendorClassIDv6;
+		if (this.dirty != null){ this.dirty.set(42);}
 		return this;
 	}
 
@@ -2714,6 +2814,7 @@ public class Classification {
 	 */
 	public void  setDestVendorClassIDExclude(Boolean destVendorClassIDExclude) {
 		this.destVendorClassIDExclude = destVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(43);}
 	}
 
 	/**
@@ -2727,6 +2828,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorClassIDExclude(Boolean destVendorClassIDExclude) {
 		this.destVendorClassIDExclude = destVendorClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(43);}
 		return this;
 	}
 
@@ -2752,6 +2854,7 @@ public class Classification {
 	 */
 	public void  setDestVendorClassIDMode(String destVendorClassIDMode) {
 		this.destVendorClassIDMode = destVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(44);}
 	}
 
 	/**
@@ -2765,6 +2868,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorClassIDMode(String destVendorClassIDMode) {
 		this.destVendorClassIDMode = destVendorClassIDMode;
+		if (this.dirty != null){ this.dirty.set(44);}
 		return this;
 	}
 
@@ -2806,6 +2910,7 @@ public class Classification {
 	 */
 	public void  setSourceClientID(byte[] sourceClientID) {
 		this.sourceClientID = sourceClientID;
+		if (this.dirty != null){ this.dirty.set(45);}
 	}
 
 	/**
@@ -2827,6 +2932,7 @@ public class Classification {
 	 */
 	public Classification withSourceClientID(byte[] sourceClientID) {
 		this.sourceClientID = sourceClientID;
+		if (this.dirty != null){ this.dirty.set(45);}
 		return this;
 	}
 
@@ -2852,6 +2958,7 @@ public class Classification {
 	 */
 	public void  setSourceClientIDExclude(Boolean sourceClientIDExclude) {
 		this.sourceClientIDExclude = sourceClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(46);}
 	}
 
 	/**
@@ -2865,6 +2972,7 @@ public class Classification {
 	 */
 	public Classification withSourceClientIDExclude(Boolean sourceClientIDExclude) {
 		this.sourceClientIDExclude = sourceClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(46);}
 		return this;
 	}
 
@@ -2906,6 +3014,7 @@ public class Classification {
 	 */
 	public void  setDestClientID(byte[] destClientID) {
 		this.destClientID = destClientID;
+		if (this.dirty != null){ this.dirty.set(47);}
 	}
 
 	/**
@@ -2927,6 +3036,7 @@ public class Classification {
 	 */
 	public Classification withDestClientID(byte[] destClientID) {
 		this.destClientID = destClientID;
+		if (this.dirty != null){ this.dirty.set(47);}
 		return this;
 	}
 
@@ -2952,6 +3062,7 @@ public class Classification {
 	 */
 	public void  setDestClientIDExclude(Boolean destClientIDExclude) {
 		this.destClientIDExclude = destClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(48);}
 	}
 
 	/**
@@ -2965,6 +3076,7 @@ public class Classification {
 	 */
 	public Classification withDestClientIDExclude(Boolean destClientIDExclude) {
 		this.destClientIDExclude = destClientIDExclude;
+		if (this.dirty != null){ this.dirty.set(48);}
 		return this;
 	}
 
@@ -3002,6 +3114,7 @@ public class Classification {
 	 */
 	public void  setSourceUserClassID(byte[] sourceUserClassID) {
 		this.sourceUserClassID = sourceUserClassID;
+		if (this.dirty != null){ this.dirty.set(49);}
 	}
 
 	/**
@@ -3021,6 +3134,7 @@ public class Classification {
 	 */
 	public Classification withSourceUserClassID(byte[] sourceUserClassID) {
 		this.sourceUserClassID = sourceUserClassID;
+		if (this.dirty != null){ this.dirty.set(49);}
 		return this;
 	}
 
@@ -3046,6 +3160,7 @@ public class Classification {
 	 */
 	public void  setSourceUserClassIDExclude(Boolean sourceUserClassIDExclude) {
 		this.sourceUserClassIDExclude = sourceUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(50);}
 	}
 
 	/**
@@ -3059,6 +3174,7 @@ public class Classification {
 	 */
 	public Classification withSourceUserClassIDExclude(Boolean sourceUserClassIDExclude) {
 		this.sourceUserClassIDExclude = sourceUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(50);}
 		return this;
 	}
 
@@ -3096,6 +3212,7 @@ public class Classification {
 	 */
 	public void  setDestUserClassID(byte[] destUserClassID) {
 		this.destUserClassID = destUserClassID;
+		if (this.dirty != null){ this.dirty.set(51);}
 	}
 
 	/**
@@ -3115,6 +3232,7 @@ public class Classification {
 	 */
 	public Classification withDestUserClassID(byte[] destUserClassID) {
 		this.destUserClassID = destUserClassID;
+		if (this.dirty != null){ this.dirty.set(51);}
 		return this;
 	}
 
@@ -3140,6 +3258,7 @@ public class Classification {
 	 */
 	public void  setDestUserClassIDExclude(Boolean destUserClassIDExclude) {
 		this.destUserClassIDExclude = destUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(52);}
 	}
 
 	/**
@@ -3153,6 +3272,7 @@ public class Classification {
 	 */
 	public Classification withDestUserClassIDExclude(Boolean destUserClassIDExclude) {
 		this.destUserClassIDExclude = destUserClassIDExclude;
+		if (this.dirty != null){ this.dirty.set(52);}
 		return this;
 	}
 
@@ -3190,6 +3310,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorSpecificInfo(byte[] sourceVendorSpecificInfo) {
 		this.sourceVendorSpecificInfo = sourceVendorSpecificInfo;
+		if (this.dirty != null){ this.dirty.set(53);}
 	}
 
 	/**
@@ -3209,6 +3330,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorSpecificInfo(byte[] sourceVendorSpecificInfo) {
 		this.sourceVendorSpecificInfo = sourceVendorSpecificInfo;
+		if (this.dirty != null){ this.dirty.set(53);}
 		return this;
 	}
 
@@ -3234,6 +3356,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorSpecificInfoExclude(Boolean sourceVendorSpecificInfoExclude) {
 		this.sourceVendorSpecificInfoExclude = sourceVendorSpecificInfoExclude;
+		if (this.dirty != null){ this.dirty.set(54);}
 	}
 
 	/**
@@ -3247,6 +3370,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorSpecificInfoExclude(Boolean sourceVendorSpecificInfoExclude) {
 		this.sourceVendorSpecificInfoExclude = sourceVendorSpecificInfoExclude;
+		if (this.dirty != null){ this.dirty.set(54);}
 		return this;
 	}
 
@@ -3272,6 +3396,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorSpecificInfoEnterprise(Long sourceVendorSpecificInfoEnterprise) {
 		this.sourceVendorSpecificInfoEnterprise = sourceVendorSpecificInfoEnterprise;
+		if (this.dirty != null){ this.dirty.set(55);}
 	}
 
 	/**
@@ -3285,6 +3410,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorSpecificInfoEnterprise(Long sourceVendorSpecificInfoEnterprise) {
 		this.sourceVendorSpecificInfoEnterprise = sourceVendorSpecificInfoEnterprise;
+		if (this.dirty != null){ this.dirty.set(55);}
 		return this;
 	}
 
@@ -3306,6 +3432,7 @@ public class Classification {
 	 */
 	public void  setSourceVendorSpecificInfoSubOption(Integer sourceVendorSpecificInfoSubOption) {
 		this.sourceVendorSpecificInfoSubOption = sourceVendorSpecificInfoSubOption;
+		if (this.dirty != null){ this.dirty.set(56);}
 	}
 
 	/**
@@ -3317,6 +3444,7 @@ public class Classification {
 	 */
 	public Classification withSourceVendorSpecificInfoSubOption(Integer sourceVendorSpecificInfoSubOption) {
 		this.sourceVendorSpecificInfoSubOption = sourceVendorSpecificInfoSubOption;
+		if (this.dirty != null){ this.dirty.set(56);}
 		return this;
 	}
 
@@ -3354,6 +3482,7 @@ public class Classification {
 	 */
 	public void  setDestVendorSpecificInfo(byte[] destVendorSpecificInfo) {
 		this.destVendorSpecificInfo = destVendorSpecificInfo;
+		if (this.dirty != null){ this.dirty.set(57);}
 	}
 
 	/**
@@ -3373,6 +3502,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorSpecificInfo(byte[] destVendorSpecificInfo) {
 		this.destVendorSpecificInfo = destVendorSpecificInfo;
+		if (this.dirty != null){ this.dirty.set(57);}
 		return this;
 	}
 
@@ -3398,6 +3528,7 @@ public class Classification {
 	 */
 	public void  setDestVendorSpecificInfoExclude(Boolean destVendorSpecificInfoExclude) {
 		this.destVendorSpecificInfoExclude = destVendorSpecificInfoExclude;
+		if (this.dirty != null){ this.dirty.set(58);}
 	}
 
 	/**
@@ -3411,6 +3542,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorSpecificInfoExclude(Boolean destVendorSpecificInfoExclude) {
 		this.destVendorSpecificInfoExclude = destVendorSpecificInfoExclude;
+		if (this.dirty != null){ this.dirty.set(58);}
 		return this;
 	}
 
@@ -3436,6 +3568,7 @@ public class Classification {
 	 */
 	public void  setDestVendorSpecificInfoEnterprise(Long destVendorSpecificInfoEnterprise) {
 		this.destVendorSpecificInfoEnterprise = destVendorSpecificInfoEnterprise;
+		if (this.dirty != null){ this.dirty.set(59);}
 	}
 
 	/**
@@ -3449,6 +3582,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorSpecificInfoEnterprise(Long destVendorSpecificInfoEnterprise) {
 		this.destVendorSpecificInfoEnterprise = destVendorSpecificInfoEnterprise;
+		if (this.dirty != null){ this.dirty.set(59);}
 		return this;
 	}
 
@@ -3470,6 +3604,7 @@ public class Classification {
 	 */
 	public void  setDestVendorSpecificInfoSubOption(Integer destVendorSpecificInfoSubOption) {
 		this.destVendorSpecificInfoSubOption = destVendorSpecificInfoSubOption;
+		if (this.dirty != null){ this.dirty.set(60);}
 	}
 
 	/**
@@ -3481,6 +3616,7 @@ public class Classification {
 	 */
 	public Classification withDestVendorSpecificInfoSubOption(Integer destVendorSpecificInfoSubOption) {
 		this.destVendorSpecificInfoSubOption = destVendorSpecificInfoSubOption;
+		if (this.dirty != null){ this.dirty.set(60);}
 		return this;
 	}
 
@@ -3510,6 +3646,7 @@ public class Classification {
 	 */
 	public void  setTcpACK(Boolean tcpACK) {
 		this.tcpACK = tcpACK;
+		if (this.dirty != null){ this.dirty.set(61);}
 	}
 
 	/**
@@ -3525,6 +3662,7 @@ public class Classification {
 	 */
 	public Classification withTcpACK(Boolean tcpACK) {
 		this.tcpACK = tcpACK;
+		if (this.dirty != null){ this.dirty.set(61);}
 		return this;
 	}
 
@@ -3550,6 +3688,7 @@ public class Classification {
 	 */
 	public void  setTcpACKExclude(Boolean tcpACKExclude) {
 		this.tcpACKExclude = tcpACKExclude;
+		if (this.dirty != null){ this.dirty.set(62);}
 	}
 
 	/**
@@ -3563,6 +3702,7 @@ public class Classification {
 	 */
 	public Classification withTcpACKExclude(Boolean tcpACKExclude) {
 		this.tcpACKExclude = tcpACKExclude;
+		if (this.dirty != null){ this.dirty.set(62);}
 		return this;
 	}
 
@@ -3588,6 +3728,7 @@ public class Classification {
 	 */
 	public void  setIplengthMin(Long iplengthMin) {
 		this.iplengthMin = iplengthMin;
+		if (this.dirty != null){ this.dirty.set(63);}
 	}
 
 	/**
@@ -3601,6 +3742,7 @@ public class Classification {
 	 */
 	public Classification withIplengthMin(Long iplengthMin) {
 		this.iplengthMin = iplengthMin;
+		if (this.dirty != null){ this.dirty.set(63);}
 		return this;
 	}
 
@@ -3630,6 +3772,7 @@ public class Classification {
 	 */
 	public void  setIplengthMax(Long iplengthMax) {
 		this.iplengthMax = iplengthMax;
+		if (this.dirty != null){ this.dirty.set(64);}
 	}
 
 	/**
@@ -3645,6 +3788,7 @@ public class Classification {
 	 */
 	public Classification withIplengthMax(Long iplengthMax) {
 		this.iplengthMax = iplengthMax;
+		if (this.dirty != null){ this.dirty.set(64);}
 		return this;
 	}
 
@@ -3670,6 +3814,7 @@ public class Classification {
 	 */
 	public void  setIplengthExclude(Boolean iplengthExclude) {
 		this.iplengthExclude = iplengthExclude;
+		if (this.dirty != null){ this.dirty.set(65);}
 	}
 
 	/**
@@ -3683,6 +3828,7 @@ public class Classification {
 	 */
 	public Classification withIplengthExclude(Boolean iplengthExclude) {
 		this.iplengthExclude = iplengthExclude;
+		if (this.dirty != null){ this.dirty.set(65);}
 		return this;
 	}
 
@@ -3716,6 +3862,7 @@ public class Classification {
 	 */
 	public void  setDscPCheck(Integer dscPCheck) {
 		this.dscPCheck = dscPCheck;
+		if (this.dirty != null){ this.dirty.set(66);}
 	}
 
 	/**
@@ -3733,6 +3880,7 @@ public class Classification {
 	 */
 	public Classification withDscPCheck(Integer dscPCheck) {
 		this.dscPCheck = dscPCheck;
+		if (this.dirty != null){ this.dirty.set(66);}
 		return this;
 	}
 
@@ -3758,6 +3906,7 @@ public class Classification {
 	 */
 	public void  setDscPExclude(Boolean dscPExclude) {
 		this.dscPExclude = dscPExclude;
+		if (this.dirty != null){ this.dirty.set(67);}
 	}
 
 	/**
@@ -3771,6 +3920,7 @@ public class Classification {
 	 */
 	public Classification withDscPExclude(Boolean dscPExclude) {
 		this.dscPExclude = dscPExclude;
+		if (this.dirty != null){ this.dirty.set(67);}
 		return this;
 	}
 
@@ -3804,6 +3954,7 @@ public class Classification {
 	 */
 	public void  setDscPMark(Integer dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(68);}
 	}
 
 	/**
@@ -3821,6 +3972,7 @@ public class Classification {
 	 */
 	public Classification withDscPMark(Integer dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(68);}
 		return this;
 	}
 
@@ -3846,6 +3998,7 @@ public class Classification {
 	 */
 	public void  setEthernetPriorityCheck(Integer ethernetPriorityCheck) {
 		this.ethernetPriorityCheck = ethernetPriorityCheck;
+		if (this.dirty != null){ this.dirty.set(69);}
 	}
 
 	/**
@@ -3859,6 +4012,7 @@ public class Classification {
 	 */
 	public Classification withEthernetPriorityCheck(Integer ethernetPriorityCheck) {
 		this.ethernetPriorityCheck = ethernetPriorityCheck;
+		if (this.dirty != null){ this.dirty.set(69);}
 		return this;
 	}
 
@@ -3884,6 +4038,7 @@ public class Classification {
 	 */
 	public void  setEthernetPriorityExclude(Boolean ethernetPriorityExclude) {
 		this.ethernetPriorityExclude = ethernetPriorityExclude;
+		if (this.dirty != null){ this.dirty.set(70);}
 	}
 
 	/**
@@ -3897,6 +4052,7 @@ public class Classification {
 	 */
 	public Classification withEthernetPriorityExclude(Boolean ethernetPriorityExclude) {
 		this.ethernetPriorityExclude = ethernetPriorityExclude;
+		if (this.dirty != null){ this.dirty.set(70);}
 		return this;
 	}
 
@@ -3930,6 +4086,7 @@ public class Classification {
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(71);}
 	}
 
 	/**
@@ -3947,6 +4104,7 @@ public class Classification {
 	 */
 	public Classification withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(71);}
 		return this;
 	}
 
@@ -3972,6 +4130,7 @@ public class Classification {
 	 */
 	public void  setInnerEthernetPriorityCheck(Integer innerEthernetPriorityCheck) {
 		this.innerEthernetPriorityCheck = innerEthernetPriorityCheck;
+		if (this.dirty != null){ this.dirty.set(72);}
 	}
 
 	/**
@@ -3985,6 +4144,7 @@ public class Classification {
 	 */
 	public Classification withInnerEthernetPriorityCheck(Integer innerEthernetPriorityCheck) {
 		this.innerEthernetPriorityCheck = innerEthernetPriorityCheck;
+		if (this.dirty != null){ this.dirty.set(72);}
 		return this;
 	}
 
@@ -4010,6 +4170,7 @@ public class Classification {
 	 */
 	public void  setInnerEthernetPriorityExclude(Boolean innerEthernetPriorityExclude) {
 		this.innerEthernetPriorityExclude = innerEthernetPriorityExclude;
+		if (this.dirty != null){ this.dirty.set(73);}
 	}
 
 	/**
@@ -4023,6 +4184,7 @@ public class Classification {
 	 */
 	public Classification withInnerEthernetPriorityExclude(Boolean innerEthernetPriorityExclude) {
 		this.innerEthernetPriorityExclude = innerEthernetPriorityExclude;
+		if (this.dirty != null){ this.dirty.set(73);}
 		return this;
 	}
 
@@ -4056,6 +4218,7 @@ public class Classification {
 	 */
 	public void  setInnerEthernetPriorityMark(Integer innerEthernetPriorityMark) {
 		this.innerEthernetPriorityMark = innerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(74);}
 	}
 
 	/**
@@ -4073,6 +4236,7 @@ public class Classification {
 	 */
 	public Classification withInnerEthernetPriorityMark(Integer innerEthernetPriorityMark) {
 		this.innerEthernetPriorityMark = innerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(74);}
 		return this;
 	}
 
@@ -4098,6 +4262,7 @@ public class Classification {
 	 */
 	public void  setEthernetDEICheck(Integer ethernetDEICheck) {
 		this.ethernetDEICheck = ethernetDEICheck;
+		if (this.dirty != null){ this.dirty.set(75);}
 	}
 
 	/**
@@ -4111,6 +4276,7 @@ public class Classification {
 	 */
 	public Classification withEthernetDEICheck(Integer ethernetDEICheck) {
 		this.ethernetDEICheck = ethernetDEICheck;
+		if (this.dirty != null){ this.dirty.set(75);}
 		return this;
 	}
 
@@ -4136,6 +4302,7 @@ public class Classification {
 	 */
 	public void  setEthernetDEIExclude(Boolean ethernetDEIExclude) {
 		this.ethernetDEIExclude = ethernetDEIExclude;
+		if (this.dirty != null){ this.dirty.set(76);}
 	}
 
 	/**
@@ -4149,6 +4316,7 @@ public class Classification {
 	 */
 	public Classification withEthernetDEIExclude(Boolean ethernetDEIExclude) {
 		this.ethernetDEIExclude = ethernetDEIExclude;
+		if (this.dirty != null){ this.dirty.set(76);}
 		return this;
 	}
 
@@ -4174,6 +4342,7 @@ public class Classification {
 	 */
 	public void  setVlaNIDCheck(Integer vlaNIDCheck) {
 		this.vlaNIDCheck = vlaNIDCheck;
+		if (this.dirty != null){ this.dirty.set(77);}
 	}
 
 	/**
@@ -4187,6 +4356,7 @@ public class Classification {
 	 */
 	public Classification withVlaNIDCheck(Integer vlaNIDCheck) {
 		this.vlaNIDCheck = vlaNIDCheck;
+		if (this.dirty != null){ this.dirty.set(77);}
 		return this;
 	}
 
@@ -4212,6 +4382,7 @@ public class Classification {
 	 */
 	public void  setVlaNIDExclude(Boolean vlaNIDExclude) {
 		this.vlaNIDExclude = vlaNIDExclude;
+		if (this.dirty != null){ this.dirty.set(78);}
 	}
 
 	/**
@@ -4225,6 +4396,7 @@ public class Classification {
 	 */
 	public Classification withVlaNIDExclude(Boolean vlaNIDExclude) {
 		this.vlaNIDExclude = vlaNIDExclude;
+		if (this.dirty != null){ this.dirty.set(78);}
 		return this;
 	}
 
@@ -4254,6 +4426,7 @@ public class Classification {
 	 */
 	public void  setOutOfBandInfo(Integer outOfBandInfo) {
 		this.outOfBandInfo = outOfBandInfo;
+		if (this.dirty != null){ this.dirty.set(79);}
 	}
 
 	/**
@@ -4269,6 +4442,7 @@ public class Classification {
 	 */
 	public Classification withOutOfBandInfo(Integer outOfBandInfo) {
 		this.outOfBandInfo = outOfBandInfo;
+		if (this.dirty != null){ this.dirty.set(79);}
 		return this;
 	}
 
@@ -4294,6 +4468,7 @@ public class Classification {
 	 */
 	public void  setForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(80);}
 	}
 
 	/**
@@ -4307,6 +4482,7 @@ public class Classification {
 	 */
 	public Classification withForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(80);}
 		return this;
 	}
 
@@ -4340,6 +4516,7 @@ public class Classification {
 	 */
 	public void  setTrafficClass(Integer trafficClass) {
 		this.trafficClass = trafficClass;
+		if (this.dirty != null){ this.dirty.set(81);}
 	}
 
 	/**
@@ -4357,6 +4534,7 @@ public class Classification {
 	 */
 	public Classification withTrafficClass(Integer trafficClass) {
 		this.trafficClass = trafficClass;
+		if (this.dirty != null){ this.dirty.set(81);}
 		return this;
 	}
 
@@ -4390,6 +4568,7 @@ public class Classification {
 	 */
 	public void  setPolicer(String policer) {
 		this.policer = policer;
+		if (this.dirty != null){ this.dirty.set(82);}
 	}
 
 	/**
@@ -4407,6 +4586,7 @@ public class Classification {
 	 */
 	public Classification withPolicer(String policer) {
 		this.policer = policer;
+		if (this.dirty != null){ this.dirty.set(82);}
 		return this;
 	}
 
@@ -4440,6 +4620,7 @@ public class Classification {
 	 */
 	public void  setApp(String app) {
 		this.app = app;
+		if (this.dirty != null){ this.dirty.set(83);}
 	}
 
 	/**
@@ -4457,6 +4638,7 @@ public class Classification {
 	 */
 	public Classification withApp(String app) {
 		this.app = app;
+		if (this.dirty != null){ this.dirty.set(83);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Flow table.
@@ -165,6 +167,16 @@ public class Flow {
 	@Size(min = -2)
 	public Integer innerEthernetPriorityMark;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Flow() {
 	}
 
@@ -187,6 +199,7 @@ public class Flow {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -198,6 +211,7 @@ public class Flow {
 	 */
 	public Flow withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -223,6 +237,7 @@ public class Flow {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -236,6 +251,7 @@ public class Flow {
 	 */
 	public Flow withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -257,6 +273,8 @@ public class Flow {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -268,6 +286,8 @@ public class Flow {
 	 */
 	public Flow withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -289,6 +309,7 @@ public class Flow {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -300,6 +321,7 @@ public class Flow {
 	 */
 	public Flow withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -321,6 +343,7 @@ public class Flow {
 	 */
 	public void  setTypeParameters(String typeParameters) {
 		this.typeParameters = typeParameters;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -332,6 +355,7 @@ public class Flow {
 	 */
 	public Flow withTypeParameters(String typeParameters) {
 		this.typeParameters = typeParameters;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -353,6 +377,7 @@ public class Flow {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -364,6 +389,7 @@ public class Flow {
 	 */
 	public Flow withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -385,6 +411,7 @@ public class Flow {
 	 */
 	public void  setApp(String app) {
 		this.app = app;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -396,6 +423,7 @@ public class Flow {
 	 */
 	public Flow withApp(String app) {
 		this.app = app;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -417,6 +445,7 @@ public class Flow {
 	 */
 	public void  setForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -428,6 +457,7 @@ public class Flow {
 	 */
 	public Flow withForwardingPolicy(Long forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -449,6 +479,7 @@ public class Flow {
 	 */
 	public void  setTrafficClass(Long trafficClass) {
 		this.trafficClass = trafficClass;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -460,6 +491,7 @@ public class Flow {
 	 */
 	public Flow withTrafficClass(Long trafficClass) {
 		this.trafficClass = trafficClass;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -485,6 +517,7 @@ public class Flow {
 	 */
 	public void  setPolicer(String policer) {
 		this.policer = policer;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -498,6 +531,7 @@ public class Flow {
 	 */
 	public Flow withPolicer(String policer) {
 		this.policer = policer;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -527,6 +561,7 @@ public class Flow {
 	 */
 	public void  setDscPMark(Integer dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -542,6 +577,7 @@ public class Flow {
 	 */
 	public Flow withDscPMark(Integer dscPMark) {
 		this.dscPMark = dscPMark;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -571,6 +607,7 @@ public class Flow {
 	 */
 	public void  setEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -586,6 +623,7 @@ public class Flow {
 	 */
 	public Flow withEthernetPriorityMark(Integer ethernetPriorityMark) {
 		this.ethernetPriorityMark = ethernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -615,6 +653,7 @@ public class Flow {
 	 */
 	public void  setInnerEthernetPriorityMark(Integer innerEthernetPriorityMark) {
 		this.innerEthernetPriorityMark = innerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -630,6 +669,7 @@ public class Flow {
 	 */
 	public Flow withInnerEthernetPriorityMark(Integer innerEthernetPriorityMark) {
 		this.innerEthernetPriorityMark = innerEthernetPriorityMark;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.qos;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Policer table.
@@ -267,6 +270,16 @@ public class Policer {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long nonConformingCountedBytes = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Policer() {
 	}
 
@@ -289,6 +302,7 @@ public class Policer {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -300,6 +314,7 @@ public class Policer {
 	 */
 	public Policer withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -325,6 +340,7 @@ public class Policer {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -338,6 +354,7 @@ public class Policer {
 	 */
 	public Policer withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -359,6 +376,8 @@ public class Policer {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -370,6 +389,8 @@ public class Policer {
 	 */
 	public Policer withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -391,6 +412,7 @@ public class Policer {
 	 */
 	public void  setCommittedRate(Long committedRate) {
 		this.committedRate = committedRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -402,6 +424,7 @@ public class Policer {
 	 */
 	public Policer withCommittedRate(Long committedRate) {
 		this.committedRate = committedRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -423,6 +446,7 @@ public class Policer {
 	 */
 	public void  setCommittedBurstSize(Long committedBurstSize) {
 		this.committedBurstSize = committedBurstSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -434,6 +458,7 @@ public class Policer {
 	 */
 	public Policer withCommittedBurstSize(Long committedBurstSize) {
 		this.committedBurstSize = committedBurstSize;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -459,6 +484,7 @@ public class Policer {
 	 */
 	public void  setExcessBurstSize(Long excessBurstSize) {
 		this.excessBurstSize = excessBurstSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -472,6 +498,7 @@ public class Policer {
 	 */
 	public Policer withExcessBurstSize(Long excessBurstSize) {
 		this.excessBurstSize = excessBurstSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -497,6 +524,7 @@ public class Policer {
 	 */
 	public void  setPeakRate(Long peakRate) {
 		this.peakRate = peakRate;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -510,6 +538,7 @@ public class Policer {
 	 */
 	public Policer withPeakRate(Long peakRate) {
 		this.peakRate = peakRate;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -535,6 +564,7 @@ public class Policer {
 	 */
 	public void  setPeakBurstSize(Long peakBurstSize) {
 		this.peakBurstSize = peakBurstSize;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -548,6 +578,7 @@ public class Policer {
 	 */
 	public Policer withPeakBurstSize(Long peakBurstSize) {
 		this.peakBurstSize = peakBurstSize;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -581,6 +612,7 @@ public class Policer {
 	 */
 	public void  setMeterType(String meterType) {
 		this.meterType = meterType;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -598,6 +630,7 @@ public class Policer {
 	 */
 	public Policer withMeterType(String meterType) {
 		this.meterType = meterType;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -612,6 +645,17 @@ public class Policer {
 		return possibleMeterTypes;
 	}
 
+	/**
+	 * Read the {{list}} Indicates supported meter types.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPossibleMeterTypes() {
+		return possibleMeterTypes == null ? Collections.emptyList() : possibleMeterTypes;
+	}
+
 	/**
 	 * Set the {{list}} Indicates supported meter types.
 	 *
@@ -620,6 +664,7 @@ public class Policer {
 	 */
 	public void  setPossibleMeterTypes(Collection<String> possibleMeterTypes) {
 		this.possibleMeterTypes = possibleMeterTypes;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -631,6 +676,7 @@ public class Policer {
 	 */
 	public Policer withPossibleMeterTypes(String string) {
 		getPossibleMeterTypes().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -682,6 +728,7 @@ public class Policer {
 	 */
 	public void  setConformingAction(String conformingAction) {
 		this.conformingAction = conformingAction;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -708,6 +755,7 @@ public class Policer {
 	 */
 	public Policer withConformingAction(String conformingAction) {
 		this.conformingAction = conformingAction;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -759,6 +807,7 @@ public class Policer {
 	 */
 	public void  setPartialConformingAction(String partialConformingAction) {
 		this.partialConformingAction = partialConformingAction;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -785,6 +834,7 @@ public class Policer {
 	 */
 	public Policer withPartialConformingAction(String partialConformingAction) {
 		this.partialConformingAction = partialConformingAction;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -836,6 +886,7 @@ public class Policer {
 	 */
 	public void  setNonConformingAction(String nonConformingAction) {
 		this.nonConformingAction = nonConformingAction;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -862,6 +913,7 @@ public class Policer {
 	 */
 	public Policer withNonConformingAction(String nonConformingAction) {
 		this.nonConformingAction = nonConformingAction;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -883,6 +935,7 @@ public class Policer {
 	 */
 	public void  setTotalCountedPackets(Long totalCountedPackets) {
 		this.totalCountedPackets = totalCountedPackets;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -894,6 +947,7 @@ public class Policer {
 	 */
 	public Policer withTotalCountedPackets(Long totalCountedPackets) {
 		this.totalCountedPackets = totalCountedPackets;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -915,6 +969,7 @@ public class Policer {
 	 */
 	public void  setTotalCountedBytes(Long totalCountedBytes) {
 		this.totalCountedBytes = totalCountedBytes;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -926,6 +981,7 @@ public class Policer {
 	 */
 	public Policer withTotalCountedBytes(Long totalCountedBytes) {
 		this.totalCountedBytes = totalCountedBytes;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -947,6 +1003,7 @@ public class Policer {
 	 */
 	public void  setConformingCountedPackets(Long conformingCountedPackets) {
 		this.conformingCountedPackets = conformingCountedPackets;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -958,6 +1015,7 @@ public class Policer {
 	 */
 	public Policer withConformingCountedPackets(Long conformingCountedPackets) {
 		this.conformingCountedPackets = conformingCountedPackets;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -979,6 +1037,7 @@ public class Policer {
 	 */
 	public void  setConformingCountedBytes(Long conformingCountedBytes) {
 		this.conformingCountedBytes = conformingCountedBytes;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -990,6 +1049,7 @@ public class Policer {
 	 */
 	public Policer withConformingCountedBytes(Long conformingCountedBytes) {
 		this.conformingCountedBytes = conformingCountedBytes;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1011,6 +1071,7 @@ public class Policer {
 	 */
 	public void  setPartiallyConformingCountedPackets(Long partiallyConformingCountedPackets) {
 		this.partiallyConformingCountedPackets = partiallyConformingCountedPackets;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1022,6 +1083,7 @@ public class Policer {
 	 */
 	public Policer withPartiallyConformingCountedPackets(Long partiallyConformingCountedPackets) {
 		this.partiallyConformingCountedPackets = partiallyConformingCountedPackets;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1043,6 +1105,7 @@ public class Policer {
 	 */
 	public void  setPartiallyConformingCountedBytes(Long partiallyConformingCountedBytes) {
 		this.partiallyConformingCountedBytes = partiallyConformingCountedBytes;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1054,6 +1117,7 @@ public class Policer {
 	 */
 	public Policer withPartiallyConformingCountedBytes(Long partiallyConformingCountedBytes) {
 		this.partiallyConformingCountedBytes = partiallyConformingCountedBytes;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1075,6 +1139,7 @@ public class Policer {
 	 */
 	public void  setNonConformingCountedPackets(Long nonConformingCountedPackets) {
 		this.nonConformingCountedPackets = nonConformingCountedPackets;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1086,6 +1151,7 @@ public class Policer {
 	 */
 	public Policer withNonConformingCountedPackets(Long nonConformingCountedPackets) {
 		this.nonConformingCountedPackets = nonConformingCountedPackets;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1107,6 +1173,7 @@ public class Policer {
 	 */
 	public void  setNonConformingCountedBytes(Long nonConformingCountedBytes) {
 		this.nonConformingCountedBytes = nonConformingCountedBytes;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1118,6 +1185,7 @@ public class Policer {
 	 */
 	public Policer withNonConformingCountedBytes(Long nonConformingCountedBytes) {
 		this.nonConformingCountedBytes = nonConformingCountedBytes;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
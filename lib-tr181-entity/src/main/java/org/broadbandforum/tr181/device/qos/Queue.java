@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Queue table. Each entry is associated with a set of traffic classes, which are specified via the {{param|TrafficClasses}} parameter, and is configured with weight, precedence, drop algorithm, scheduler algorithm etc as appropriate for the traffic classes. An entry can be associated either with all egress interfaces (in which case an actual queue will be instantiated on each egress interface on which traffic of that traffic class can be generated) or else with a single specified egress interface.
@@ -200,6 +202,16 @@ public class Queue {
 	@CWMPParameter(access = "readWrite")
 	public Long shapingBurstSize;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Queue() {
 	}
 
@@ -222,6 +234,7 @@ public class Queue {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -233,6 +246,7 @@ public class Queue {
 	 */
 	public Queue withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -262,6 +276,7 @@ public class Queue {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -277,6 +292,7 @@ public class Queue {
 	 */
 	public Queue withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -298,6 +314,8 @@ public class Queue {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -309,6 +327,8 @@ public class Queue {
 	 */
 	public Queue withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -338,6 +358,7 @@ public class Queue {
 	 */
 	public void  setTrafficClasses(Long trafficClasses) {
 		this.trafficClasses = trafficClasses;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -353,6 +374,7 @@ public class Queue {
 	 */
 	public Queue withTrafficClasses(Long trafficClasses) {
 		this.trafficClasses = trafficClasses;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -378,6 +400,7 @@ public class Queue {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -391,6 +414,7 @@ public class Queue {
 	 */
 	public Queue with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -412,6 +436,7 @@ public class Queue {
 	 */
 	public void  setAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -423,6 +448,7 @@ public class Queue {
 	 */
 	public Queue withAllInterfaces(Boolean allInterfaces) {
 		this.allInterfaces = allInterfaces;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -444,6 +470,7 @@ public class Queue {
 	 */
 	public void  setHardwareAssisted(Boolean hardwareAssisted) {
 		this.hardwareAssisted = hardwareAssisted;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -455,6 +482,7 @@ public class Queue {
 	 */
 	public Queue withHardwareAssisted(Boolean hardwareAssisted) {
 		this.hardwareAssisted = hardwareAssisted;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -480,6 +508,7 @@ public class Queue {
 	 */
 	public void  setBufferLength(Long bufferLength) {
 		this.bufferLength = bufferLength;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -493,6 +522,7 @@ public class Queue {
 	 */
 	public Queue withBufferLength(Long bufferLength) {
 		this.bufferLength = bufferLength;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -514,6 +544,7 @@ public class Queue {
 	 */
 	public void  setWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -525,6 +556,7 @@ public class Queue {
 	 */
 	public Queue withWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -546,6 +578,7 @@ public class Queue {
 	 */
 	public void  setPrecedence(Long precedence) {
 		this.precedence = precedence;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -557,6 +590,7 @@ public class Queue {
 	 */
 	public Queue withPrecedence(Long precedence) {
 		this.precedence = precedence;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -590,6 +624,7 @@ public class Queue {
 	 */
 	public void  setRedThreshold(Long redThreshold) {
 		this.redThreshold = redThreshold;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -607,6 +642,7 @@ public class Queue {
 	 */
 	public Queue withRedThreshold(Long redThreshold) {
 		this.redThreshold = redThreshold;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -636,6 +672,7 @@ public class Queue {
 	 */
 	public void  setRedPercentage(Long redPercentage) {
 		this.redPercentage = redPercentage;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -651,6 +688,7 @@ public class Queue {
 	 */
 	public Queue withRedPercentage(Long redPercentage) {
 		this.redPercentage = redPercentage;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -672,6 +710,7 @@ public class Queue {
 	 */
 	public void  setDropAlgorithm(String dropAlgorithm) {
 		this.dropAlgorithm = dropAlgorithm;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -683,6 +722,7 @@ public class Queue {
 	 */
 	public Queue withDropAlgorithm(String dropAlgorithm) {
 		this.dropAlgorithm = dropAlgorithm;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -704,6 +744,7 @@ public class Queue {
 	 */
 	public void  setSchedulerAlgorithm(String schedulerAlgorithm) {
 		this.schedulerAlgorithm = schedulerAlgorithm;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -715,6 +756,7 @@ public class Queue {
 	 */
 	public Queue withSchedulerAlgorithm(String schedulerAlgorithm) {
 		this.schedulerAlgorithm = schedulerAlgorithm;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -752,6 +794,7 @@ public class Queue {
 	 */
 	public void  setShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -771,6 +814,7 @@ public class Queue {
 	 */
 	public Queue withShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -792,6 +836,7 @@ public class Queue {
 	 */
 	public void  setShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -803,6 +848,7 @@ public class Queue {
 	 */
 	public Queue withShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Queue statistics table. This table is managed by the ACS, which will create entries only for those {Queue, Interface} combinations for which statistics are to be collected.
@@ -133,6 +135,16 @@ public class QueueStats {
 	@Size(min = 0, max = 100)
 	public Long queueOccupancyPercentage = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public QueueStats() {
 	}
 
@@ -155,6 +167,7 @@ public class QueueStats {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -166,6 +179,7 @@ public class QueueStats {
 	 */
 	public QueueStats withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -187,6 +201,7 @@ public class QueueStats {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -198,6 +213,7 @@ public class QueueStats {
 	 */
 	public QueueStats withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -219,6 +235,8 @@ public class QueueStats {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -230,6 +248,8 @@ public class QueueStats {
 	 */
 	public QueueStats withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -251,6 +271,8 @@ public class QueueStats {
 	 */
 	public void  setQueue(String queue) {
 		this.queue = queue;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -262,6 +284,8 @@ public class QueueStats {
 	 */
 	public QueueStats withQueue(String queue) {
 		this.queue = queue;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -287,6 +311,8 @@ public class QueueStats {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -300,6 +326,8 @@ public class QueueStats {
 	 */
 	public QueueStats with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -321,6 +349,7 @@ public class QueueStats {
 	 */
 	public void  setOutputPackets(Long outputPackets) {
 		this.outputPackets = outputPackets;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -332,6 +361,7 @@ public class QueueStats {
 	 */
 	public QueueStats withOutputPackets(Long outputPackets) {
 		this.outputPackets = outputPackets;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -353,6 +383,7 @@ public class QueueStats {
 	 */
 	public void  setOutputBytes(Long outputBytes) {
 		this.outputBytes = outputBytes;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -364,6 +395,7 @@ public class QueueStats {
 	 */
 	public QueueStats withOutputBytes(Long outputBytes) {
 		this.outputBytes = outputBytes;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -385,6 +417,7 @@ public class QueueStats {
 	 */
 	public void  setDroppedPackets(Long droppedPackets) {
 		this.droppedPackets = droppedPackets;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -396,6 +429,7 @@ public class QueueStats {
 	 */
 	public QueueStats withDroppedPackets(Long droppedPackets) {
 		this.droppedPackets = droppedPackets;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -417,6 +451,7 @@ public class QueueStats {
 	 */
 	public void  setDroppedBytes(Long droppedBytes) {
 		this.droppedBytes = droppedBytes;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -428,6 +463,7 @@ public class QueueStats {
 	 */
 	public QueueStats withDroppedBytes(Long droppedBytes) {
 		this.droppedBytes = droppedBytes;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -449,6 +485,7 @@ public class QueueStats {
 	 */
 	public void  setQueueOccupancyPackets(Long queueOccupancyPackets) {
 		this.queueOccupancyPackets = queueOccupancyPackets;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -460,6 +497,7 @@ public class QueueStats {
 	 */
 	public QueueStats withQueueOccupancyPackets(Long queueOccupancyPackets) {
 		this.queueOccupancyPackets = queueOccupancyPackets;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -481,6 +519,7 @@ public class QueueStats {
 	 */
 	public void  setQueueOccupancyPercentage(Long queueOccupancyPercentage) {
 		this.queueOccupancyPercentage = queueOccupancyPercentage;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -492,6 +531,7 @@ public class QueueStats {
 	 */
 	public QueueStats withQueueOccupancyPercentage(Long queueOccupancyPercentage) {
 		this.queueOccupancyPercentage = queueOccupancyPercentage;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
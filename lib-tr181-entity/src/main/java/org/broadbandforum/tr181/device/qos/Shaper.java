@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Shaper table. Used to shape the queue(s) associated with {{param|Interface}}. In case of a single queue for that interface, determines the egress rate of the queue. In case of multiple queues for that interface (possibly with per queue shaping rates), determines the aggregate egress rate on that interface.
@@ -104,6 +106,16 @@ public class Shaper {
 	@CWMPParameter(access = "readWrite")
 	public Long shapingBurstSize;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Shaper() {
 	}
 
@@ -126,6 +138,7 @@ public class Shaper {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -137,6 +150,7 @@ public class Shaper {
 	 */
 	public Shaper withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -166,6 +180,7 @@ public class Shaper {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -181,6 +196,7 @@ public class Shaper {
 	 */
 	public Shaper withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -202,6 +218,8 @@ public class Shaper {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -213,6 +231,8 @@ public class Shaper {
 	 */
 	public Shaper withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -234,6 +254,8 @@ public class Shaper {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -245,6 +267,8 @@ public class Shaper {
 	 */
 	public Shaper with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -282,6 +306,7 @@ public class Shaper {
 	 */
 	public void  setShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -301,6 +326,7 @@ public class Shaper {
 	 */
 	public Shaper withShapingRate(Integer shapingRate) {
 		this.shapingRate = shapingRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -322,6 +348,7 @@ public class Shaper {
 	 */
 	public void  setShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -333,6 +360,7 @@ public class Shaper {
 	 */
 	public Shaper withShapingBurstSize(Long shapingBurstSize) {
 		this.shapingBurstSize = shapingBurstSize;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.routeradvertisement;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.routeradvertisement.interfacesetting.Option;
 
 	/**
@@ -244,6 +247,16 @@ public class InterfaceSetting {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Option> options;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterfaceSetting() {
 	}
 
@@ -270,6 +283,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -283,6 +297,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -312,6 +327,7 @@ public class InterfaceSetting {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -327,6 +343,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -348,6 +365,8 @@ public class InterfaceSetting {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -359,6 +378,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -380,6 +401,8 @@ public class InterfaceSetting {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -391,6 +414,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -409,6 +434,21 @@ public class InterfaceSetting {
 		return manualPrefixes;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+          Manually-configured prefixes that will be sent in Router Advertisement messages.  Each referenced prefix MUST have a  {{param|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}} of {{enum|Static|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}} or {{enum|Child|.IP.Interface.{i}.IPv6Prefix.{i}.StaticType}}.  Router Advertisement messages MUST include Prefix Information Options {{bibref|RFC4861}} for all ''Valid'' ({{param|.IP.Interface.{i}.IPv6Prefix.{i}.ValidLifetime}} is infinite or in the future) prefixes in this list.
+
+          Prefixes MUST be associated with the interface instance referenced by {{param|Interface}}.
+	 *
+	 * @since 2.2
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewManualPrefixes() {
+		return manualPrefixes == null ? Collections.emptyList() : manualPrefixes;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -421,6 +461,7 @@ public class InterfaceSetting {
 	 */
 	public void  setManualPrefixes(Collection<String> manualPrefixes) {
 		this.manualPrefixes = manualPrefixes;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -436,6 +477,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withManualPrefixes(String string) {
 		getManualPrefixes().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -456,6 +498,23 @@ public class InterfaceSetting {
 		return prefixes;
 	}
 
+	/**
+	 * Read the {{list}} {{reference}}
+
+          All prefixes that will be included in Router Advertisement (RA) messages sent out this interface. This list can include:
+
+          * Prefixes from {{param|ManualPrefixes}} that are included in RA messages.
+
+          * Prefixes with {{param|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} = {{enum|Child|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} or {{enum|AutoConfigured|.IP.Interface.{i}.IPv6Prefix.{i}.Origin}} associated with the interface instance referenced by {{param|Interface}}.
+	 *
+	 * @since 2.2
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPrefixes() {
+		return prefixes == null ? Collections.emptyList() : prefixes;
+	}
+
 	/**
 	 * Set the {{list}} {{reference}}
 
@@ -470,6 +529,7 @@ public class InterfaceSetting {
 	 */
 	public void  setPrefixes(Collection<String> prefixes) {
 		this.prefixes = prefixes;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -487,6 +547,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withPrefixes(String string) {
 		getPrefixes().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -508,6 +569,7 @@ public class InterfaceSetting {
 	 */
 	public void  setMaxRtrAdvInterval(Long maxRtrAdvInterval) {
 		this.maxRtrAdvInterval = maxRtrAdvInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -519,6 +581,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withMaxRtrAdvInterval(Long maxRtrAdvInterval) {
 		this.maxRtrAdvInterval = maxRtrAdvInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -548,6 +611,7 @@ public class InterfaceSetting {
 	 */
 	public void  setMinRtrAdvInterval(Long minRtrAdvInterval) {
 		this.minRtrAdvInterval = minRtrAdvInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -563,6 +627,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withMinRtrAdvInterval(Long minRtrAdvInterval) {
 		this.minRtrAdvInterval = minRtrAdvInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -596,6 +661,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvDefaultLifetime(Long advDefaultLifetime) {
 		this.advDefaultLifetime = advDefaultLifetime;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -613,6 +679,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvDefaultLifetime(Long advDefaultLifetime) {
 		this.advDefaultLifetime = advDefaultLifetime;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -634,6 +701,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvManagedFlag(Boolean advManagedFlag) {
 		this.advManagedFlag = advManagedFlag;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -645,6 +713,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvManagedFlag(Boolean advManagedFlag) {
 		this.advManagedFlag = advManagedFlag;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -666,6 +735,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvOtherConfigFlag(Boolean advOtherConfigFlag) {
 		this.advOtherConfigFlag = advOtherConfigFlag;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -677,6 +747,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvOtherConfigFlag(Boolean advOtherConfigFlag) {
 		this.advOtherConfigFlag = advOtherConfigFlag;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -698,6 +769,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvMobileAgentFlag(Boolean advMobileAgentFlag) {
 		this.advMobileAgentFlag = advMobileAgentFlag;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -709,6 +781,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvMobileAgentFlag(Boolean advMobileAgentFlag) {
 		this.advMobileAgentFlag = advMobileAgentFlag;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -734,6 +807,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvPreferredRouterFlag(String advPreferredRouterFlag) {
 		this.advPreferredRouterFlag = advPreferredRouterFlag;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -747,6 +821,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvPreferredRouterFlag(String advPreferredRouterFlag) {
 		this.advPreferredRouterFlag = advPreferredRouterFlag;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -768,6 +843,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvNDProxyFlag(Boolean advNDProxyFlag) {
 		this.advNDProxyFlag = advNDProxyFlag;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -779,6 +855,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvNDProxyFlag(Boolean advNDProxyFlag) {
 		this.advNDProxyFlag = advNDProxyFlag;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -800,6 +877,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvLinkMTU(Long advLinkMTU) {
 		this.advLinkMTU = advLinkMTU;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -811,6 +889,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvLinkMTU(Long advLinkMTU) {
 		this.advLinkMTU = advLinkMTU;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -836,6 +915,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvReachableTime(Long advReachableTime) {
 		this.advReachableTime = advReachableTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -849,6 +929,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvReachableTime(Long advReachableTime) {
 		this.advReachableTime = advReachableTime;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -874,6 +955,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvRetransTimer(Long advRetransTimer) {
 		this.advRetransTimer = advRetransTimer;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -887,6 +969,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvRetransTimer(Long advRetransTimer) {
 		this.advRetransTimer = advRetransTimer;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -916,6 +999,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAdvCurHopLimit(Long advCurHopLimit) {
 		this.advCurHopLimit = advCurHopLimit;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -931,6 +1015,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAdvCurHopLimit(Long advCurHopLimit) {
 		this.advCurHopLimit = advCurHopLimit;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -942,10 +1027,22 @@ public class InterfaceSetting {
 	 * @return the value
 	 */
 	public Collection<Option> getOptions() {
-		if (this.options == null){ this.options=new ArrayList<>();}
+		if (!(this.options instanceof InstanceTable)){ this.options=InstanceTable.of(this.options);}
 		return options;
 	}
 
+	/**
+	 * Read the this object specifies the options in a Router Advertisement (RA) message {{bibref|RFC4861|Section 4.6}}. {{object}} entries are created for use in sending Router Advertisements (enabled options MUST be included in RA messages sent). This includes support for sending DNS information in the RA message as described in {{bibref|RFC6106}}.
+
+        This table is intended only for options that are not modeled elsewhere. For example, it is not appropriate for the MTU option (which is modeled via {{param|#.AdvLinkMTU}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Option> viewOptions() {
+		return options == null ? Collections.emptyList() : options;
+	}
+
 	/**
 	 * Set the this object specifies the options in a Router Advertisement (RA) message {{bibref|RFC4861|Section 4.6}}. {{object}} entries are created for use in sending Router Advertisements (enabled options MUST be included in RA messages sent). This includes support for sending DNS information in the RA message as described in {{bibref|RFC6106}}.
 
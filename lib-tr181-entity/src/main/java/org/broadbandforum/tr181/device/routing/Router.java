@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.routing;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +27,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.routing.router.IPv4Forwarding;
 import org.broadbandforum.tr181.device.routing.router.IPv6Forwarding;
 
@@ -105,6 +107,16 @@ public class Router {
 	@CWMPParameter(access = "readWrite")
 	public Collection<IPv6Forwarding> ipv6Forwardings;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Router() {
 	}
 
@@ -127,6 +139,7 @@ public class Router {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -138,6 +151,7 @@ public class Router {
 	 */
 	public Router withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,7 @@ public class Router {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -176,6 +191,7 @@ public class Router {
 	 */
 	public Router withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -197,6 +213,8 @@ public class Router {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -208,6 +226,8 @@ public class Router {
 	 */
 	public Router withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -229,10 +249,32 @@ public class Router {
 	 * @return the value
 	 */
 	public Collection<IPv4Forwarding> getIpv4Forwardings() {
-		if (this.ipv4Forwardings == null){ this.ipv4Forwardings=new ArrayList<>();}
+		if (!(this.ipv4Forwardings instanceof InstanceTable)){ this.ipv4Forwardings=InstanceTable.of(this.ipv4Forwardings);}
 		return ipv4Forwardings;
 	}
 
+	/**
+	 * Read the layer 3 IPv4 forwarding table.
+
+        In addition to statically configured routes, this table MUST include dynamic routes learned through layer 3 routing protocols, including RIP (i.e. RIP version 2), OSPF, DHCPv4, and IPCP.  The CPE MAY reject attempts to delete or modify a dynamic route entry.
+
+        For each incoming packet, the layer 3 forwarding decision is conceptually made as follows:
+
+        * Only enabled table entries with a matching {{param|ForwardingPolicy}} are considered, i.e. those that either do not specify a {{param|ForwardingPolicy}}, or else specify a {{param|ForwardingPolicy}} that matches that of the incoming packet. 
+
+        * Next, table entries that also have a matching destination address/mask are considered, and the matching entry with the longest prefix is applied to the packet (i.e. the entry with the most specific network). An unspecified destination address is a wild-card and always matches, but with a prefix length of zero.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference to an IPv4-capable interface (that is attached to the IPv4 stack), then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        Note: The {{object}} table includes a unique key parameter that is a strong reference. If a strongly referenced object is deleted, the CPE will set the referencing parameter to {{empty}}. However, doing so under these circumstances might cause the updated {{object}} row to then violate the table's unique key constraint; if this occurs, the CPE MUST disable the offending {{object}} row.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv4Forwarding> viewIpv4Forwardings() {
+		return ipv4Forwardings == null ? Collections.emptyList() : ipv4Forwardings;
+	}
+
 	/**
 	 * Set the layer 3 IPv4 forwarding table.
 
@@ -295,10 +337,32 @@ public class Router {
 	 * @return the value
 	 */
 	public Collection<IPv6Forwarding> getIpv6Forwardings() {
-		if (this.ipv6Forwardings == null){ this.ipv6Forwardings=new ArrayList<>();}
+		if (!(this.ipv6Forwardings instanceof InstanceTable)){ this.ipv6Forwardings=InstanceTable.of(this.ipv6Forwardings);}
 		return ipv6Forwardings;
 	}
 
+	/**
+	 * Read the layer 3 IPv6 forwarding table.
+
+        In addition to statically configured routes, this table MUST include dynamic routes learned through layer 3 routing protocols, including RIPng, OSPF, DHCPv6, and RA.  The CPE MAY reject attempts to delete or modify a dynamic route entry.
+
+        For each incoming packet, the layer 3 forwarding decision is conceptually made as follows:
+
+        * Only enabled table entries with a matching {{param|ForwardingPolicy}} are considered, i.e. those that either do not specify a {{param|ForwardingPolicy}}, or else specify a {{param|ForwardingPolicy}} that matches that of the incoming packet. 
+
+        * Next, table entries that also have a matching destination prefix are considered, and the matching entry with the longest prefix length is applied to the packet (i.e. the entry with the most specific network). An unspecified destination address is a wild-card and always matches, but with a prefix length of zero.
+
+        For enabled table entries, if {{param|Interface}} is not a valid reference to an IPv6-capable interface (that is attached to the IPv6 stack), then the table entry is inoperable and the CPE MUST set {{param|Status}} to {{enum|Error_Misconfigured|Status}}.
+
+        This object is based on ''inetCidrRouteTable'' from {{bibref|RFC4292}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IPv6Forwarding> viewIpv6Forwardings() {
+		return ipv6Forwardings == null ? Collections.emptyList() : ipv6Forwardings;
+	}
+
 	/**
 	 * Set the layer 3 IPv6 forwarding table.
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * IP Interface RIP configuration table.
@@ -101,6 +103,16 @@ public class InterfaceSetting {
 	@CWMPParameter(access = "readWrite")
 	public Boolean sendRA;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterfaceSetting() {
 	}
 
@@ -123,6 +135,7 @@ public class InterfaceSetting {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +147,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,7 @@ public class InterfaceSetting {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -178,6 +193,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +215,8 @@ public class InterfaceSetting {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -210,6 +228,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -231,6 +251,8 @@ public class InterfaceSetting {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -242,6 +264,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -267,6 +291,7 @@ public class InterfaceSetting {
 	 */
 	public void  setAcceptRA(Boolean acceptRA) {
 		this.acceptRA = acceptRA;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -280,6 +305,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withAcceptRA(Boolean acceptRA) {
 		this.acceptRA = acceptRA;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -305,6 +331,7 @@ public class InterfaceSetting {
 	 */
 	public void  setSendRA(Boolean sendRA) {
 		this.sendRA = sendRA;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -318,6 +345,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withSendRA(Boolean sendRA) {
 		this.sendRA = sendRA;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
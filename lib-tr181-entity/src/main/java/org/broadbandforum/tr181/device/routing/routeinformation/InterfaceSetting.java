@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Address;
 import org.broadbandforum.common.IPv6Prefix;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * IP Interface RA route information table. Contains received RA route information {{bibref|RFC4191}}. As such, the data in this table cannot be modified.
@@ -86,8 +90,19 @@ public class InterfaceSetting {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "RouteLifetime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime routeLifetime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterfaceSetting() {
 	}
 
@@ -114,6 +129,7 @@ public class InterfaceSetting {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -127,6 +143,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -148,6 +165,8 @@ public class InterfaceSetting {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -159,6 +178,8 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -180,6 +201,7 @@ public class InterfaceSetting {
 	 */
 	public void  setSourceRouter(IPv6Address sourceRouter) {
 		this.sourceRouter = sourceRouter;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -191,6 +213,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withSourceRouter(IPv6Address sourceRouter) {
 		this.sourceRouter = sourceRouter;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -216,6 +239,7 @@ public class InterfaceSetting {
 	 */
 	public void  setPreferredRouteFlag(String preferredRouteFlag) {
 		this.preferredRouteFlag = preferredRouteFlag;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -229,6 +253,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withPreferredRouteFlag(String preferredRouteFlag) {
 		this.preferredRouteFlag = preferredRouteFlag;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -250,6 +275,7 @@ public class InterfaceSetting {
 	 */
 	public void  setPrefix(IPv6Prefix prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -261,6 +287,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withPrefix(IPv6Prefix prefix) {
 		this.prefix = prefix;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -286,6 +313,7 @@ public class InterfaceSetting {
 	 */
 	public void  setRouteLifetime(LocalDateTime routeLifetime) {
 		this.routeLifetime = routeLifetime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -299,6 +327,7 @@ public class InterfaceSetting {
 	 */
 	public InterfaceSetting withRouteLifetime(LocalDateTime routeLifetime) {
 		this.routeLifetime = routeLifetime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
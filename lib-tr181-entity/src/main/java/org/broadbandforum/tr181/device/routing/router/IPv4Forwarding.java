@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Layer 3 IPv4 forwarding table.
@@ -164,6 +166,16 @@ public class IPv4Forwarding {
 	@Size(min = -1)
 	public Integer forwardingMetric;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IPv4Forwarding() {
 	}
 
@@ -186,6 +198,7 @@ public class IPv4Forwarding {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -197,6 +210,7 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -226,6 +240,7 @@ public class IPv4Forwarding {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -241,6 +256,7 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -262,6 +278,8 @@ public class IPv4Forwarding {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -273,6 +291,8 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -294,6 +314,7 @@ public class IPv4Forwarding {
 	 */
 	public void  setStaticRoute(Boolean staticRoute) {
 		this.staticRoute = staticRoute;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -305,6 +326,7 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withStaticRoute(Boolean staticRoute) {
 		this.staticRoute = staticRoute;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -330,6 +352,8 @@ public class IPv4Forwarding {
 	 */
 	public void  setDestIPAddress(IPv4Address destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -343,6 +367,8 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withDestIPAddress(IPv4Address destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -372,6 +398,8 @@ public class IPv4Forwarding {
 	 */
 	public void  setDestSubnetMask(IPv4Address destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -387,6 +415,8 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withDestSubnetMask(IPv4Address destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -416,6 +446,8 @@ public class IPv4Forwarding {
 	 */
 	public void  setForwardingPolicy(Integer forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -431,6 +463,8 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withForwardingPolicy(Integer forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -460,6 +494,8 @@ public class IPv4Forwarding {
 	 */
 	public void  setGatewayIPAddress(IPv4Address gatewayIPAddress) {
 		this.gatewayIPAddress = gatewayIPAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -475,6 +511,8 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withGatewayIPAddress(IPv4Address gatewayIPAddress) {
 		this.gatewayIPAddress = gatewayIPAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -508,6 +546,8 @@ public class IPv4Forwarding {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -525,6 +565,8 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -546,6 +588,7 @@ public class IPv4Forwarding {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -557,6 +600,7 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -578,6 +622,8 @@ public class IPv4Forwarding {
 	 */
 	public void  setForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -589,6 +635,8 @@ public class IPv4Forwarding {
 	 */
 	public IPv4Forwarding withForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
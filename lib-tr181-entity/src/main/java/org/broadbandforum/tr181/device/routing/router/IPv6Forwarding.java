@@ -22,12 +22,17 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv6Address;
 import org.broadbandforum.common.IPv6Prefix;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Layer 3 IPv6 forwarding table.
@@ -154,7 +159,18 @@ public class IPv6Forwarding {
 	 * @since 2.2
 	 */
 	@XmlElement(name = "ExpirationTime")
-	public LocalDateTime expirationTime = LocalDateTime.parse("9999-12-31T23:59:59Z");;
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
+	public LocalDateTime expirationTime = CWMPDateTime.INFINITE_TIME;
+
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
 
 	public IPv6Forwarding() {
 	}
@@ -178,6 +194,7 @@ public class IPv6Forwarding {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -189,6 +206,7 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -218,6 +236,7 @@ public class IPv6Forwarding {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -233,6 +252,7 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -254,6 +274,8 @@ public class IPv6Forwarding {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -265,6 +287,8 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -290,6 +314,8 @@ public class IPv6Forwarding {
 	 */
 	public void  setDestIPPrefix(IPv6Prefix destIPPrefix) {
 		this.destIPPrefix = destIPPrefix;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -303,6 +329,8 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withDestIPPrefix(IPv6Prefix destIPPrefix) {
 		this.destIPPrefix = destIPPrefix;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -332,6 +360,8 @@ public class IPv6Forwarding {
 	 */
 	public void  setForwardingPolicy(Integer forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -347,6 +377,8 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withForwardingPolicy(Integer forwardingPolicy) {
 		this.forwardingPolicy = forwardingPolicy;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -376,6 +408,8 @@ public class IPv6Forwarding {
 	 */
 	public void  setNextHop(IPv6Address nextHop) {
 		this.nextHop = nextHop;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -391,6 +425,8 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withNextHop(IPv6Address nextHop) {
 		this.nextHop = nextHop;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -424,6 +460,8 @@ public class IPv6Forwarding {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -441,6 +479,8 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -462,6 +502,7 @@ public class IPv6Forwarding {
 	 */
 	public void  setOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -473,6 +514,7 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withOrigin(String origin) {
 		this.origin = origin;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -494,6 +536,8 @@ public class IPv6Forwarding {
 	 */
 	public void  setForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -505,6 +549,8 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withForwardingMetric(Integer forwardingMetric) {
 		this.forwardingMetric = forwardingMetric;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -530,6 +576,7 @@ public class IPv6Forwarding {
 	 */
 	public void  setExpirationTime(LocalDateTime expirationTime) {
 		this.expirationTime = expirationTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -543,6 +590,7 @@ public class IPv6Forwarding {
 	 */
 	public IPv6Forwarding withExpirationTime(LocalDateTime expirationTime) {
 		this.expirationTime = expirationTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.security;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,9 +26,13 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This table provides information about all types of public key-based credentials, such as X.509 certificates, see {{bibref|RFC5280}}.
@@ -54,6 +59,7 @@ public class Certificate {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "LastModif")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastModif;
 	/**
 	 * The Serial Number field in an X.509 certificate, see {{bibref|RFC5280}}.
@@ -77,6 +83,7 @@ public class Certificate {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "NotBefore")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime notBefore;
 	/**
 	 * The end of the certificate validity period; i.e., the Not After field in an X.509 certificate, see {{bibref|RFC5280}}.
@@ -84,6 +91,7 @@ public class Certificate {
 	 * @since 2.4
 	 */
 	@XmlElement(name = "NotAfter")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime notAfter;
 	/**
 	 * The Distinguished Name (DN) of the entity associated with the Public Key; i.e., the Subject field in an X.509 certificate, see {{bibref|RFC5280}}.
@@ -113,6 +121,16 @@ public class Certificate {
 	@Size(max = 256)
 	public String signatureAlgorithm;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Certificate() {
 	}
 
@@ -135,6 +153,7 @@ public class Certificate {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -146,6 +165,7 @@ public class Certificate {
 	 */
 	public Certificate withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -167,6 +187,7 @@ public class Certificate {
 	 */
 	public void  setLastModif(LocalDateTime lastModif) {
 		this.lastModif = lastModif;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -178,6 +199,7 @@ public class Certificate {
 	 */
 	public Certificate withLastModif(LocalDateTime lastModif) {
 		this.lastModif = lastModif;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +221,8 @@ public class Certificate {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -210,6 +234,8 @@ public class Certificate {
 	 */
 	public Certificate withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -231,6 +257,8 @@ public class Certificate {
 	 */
 	public void  setIssuer(String issuer) {
 		this.issuer = issuer;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -242,6 +270,8 @@ public class Certificate {
 	 */
 	public Certificate withIssuer(String issuer) {
 		this.issuer = issuer;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -263,6 +293,7 @@ public class Certificate {
 	 */
 	public void  setNotBefore(LocalDateTime notBefore) {
 		this.notBefore = notBefore;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -274,6 +305,7 @@ public class Certificate {
 	 */
 	public Certificate withNotBefore(LocalDateTime notBefore) {
 		this.notBefore = notBefore;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -295,6 +327,7 @@ public class Certificate {
 	 */
 	public void  setNotAfter(LocalDateTime notAfter) {
 		this.notAfter = notAfter;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -306,6 +339,7 @@ public class Certificate {
 	 */
 	public Certificate withNotAfter(LocalDateTime notAfter) {
 		this.notAfter = notAfter;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -327,6 +361,7 @@ public class Certificate {
 	 */
 	public void  setSubject(String subject) {
 		this.subject = subject;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -338,6 +373,7 @@ public class Certificate {
 	 */
 	public Certificate withSubject(String subject) {
 		this.subject = subject;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -354,6 +390,19 @@ public class Certificate {
 		return subjectAlt;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a DNS Name.
+
+          The Subject Alternative Names extension field in an X.509 certificate, see {{bibref|RFC5280}}.
+	 *
+	 * @since 2.4
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSubjectAlt() {
+		return subjectAlt == null ? Collections.emptyList() : subjectAlt;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a DNS Name.
 
@@ -364,6 +413,7 @@ public class Certificate {
 	 */
 	public void  setSubjectAlt(Collection<String> subjectAlt) {
 		this.subjectAlt = subjectAlt;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -377,6 +427,7 @@ public class Certificate {
 	 */
 	public Certificate withSubjectAlt(String string) {
 		getSubjectAlt().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -398,6 +449,7 @@ public class Certificate {
 	 */
 	public void  setSignatureAlgorithm(String signatureAlgorithm) {
 		this.signatureAlgorithm = signatureAlgorithm;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -409,6 +461,7 @@ public class Certificate {
 	 */
 	public Certificate withSignatureAlgorithm(String signatureAlgorithm) {
 		this.signatureAlgorithm = signatureAlgorithm;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.smartcardreaders.smartcardreader.SmartCard;
 
 	/**
@@ -95,6 +99,7 @@ public class SmartCardReader {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "ResetTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime resetTime;
 	/**
 	 * Counter incremented once each time decryption cannot be carried out.
@@ -122,6 +127,16 @@ public class SmartCardReader {
 	@XmlElement(name = "SmartCard")
 	public SmartCard smartCard;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SmartCardReader() {
 	}
 
@@ -144,6 +159,8 @@ public class SmartCardReader {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -155,6 +172,8 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -176,6 +195,7 @@ public class SmartCardReader {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -187,6 +207,7 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -208,6 +229,7 @@ public class SmartCardReader {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -219,6 +241,7 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -240,6 +263,8 @@ public class SmartCardReader {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -251,6 +276,8 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -272,6 +299,7 @@ public class SmartCardReader {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -283,6 +311,7 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -324,6 +353,7 @@ public class SmartCardReader {
 	 */
 	public void  setResetTime(LocalDateTime resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -345,6 +375,7 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withResetTime(LocalDateTime resetTime) {
 		this.resetTime = resetTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -370,6 +401,7 @@ public class SmartCardReader {
 	 */
 	public void  setDecryptionFailedCounter(Long decryptionFailedCounter) {
 		this.decryptionFailedCounter = decryptionFailedCounter;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -383,6 +415,7 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withDecryptionFailedCounter(Long decryptionFailedCounter) {
 		this.decryptionFailedCounter = decryptionFailedCounter;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -408,6 +441,7 @@ public class SmartCardReader {
 	 */
 	public void  setDecryptionFailedNoKeyCounter(Long decryptionFailedNoKeyCounter) {
 		this.decryptionFailedNoKeyCounter = decryptionFailedNoKeyCounter;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -421,6 +455,7 @@ public class SmartCardReader {
 	 */
 	public SmartCardReader withDecryptionFailedNoKeyCounter(Long decryptionFailedNoKeyCounter) {
 		this.decryptionFailedNoKeyCounter = decryptionFailedNoKeyCounter;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.smartcardreaders.smartcardreader;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Status of currently associated smart card.
@@ -82,6 +84,11 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	@Size(max = 1024)
 	public String atr;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SmartCard() {
 	}
 
@@ -104,6 +111,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -115,6 +123,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public SmartCard withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +149,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -153,6 +163,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public SmartCard withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -171,6 +182,21 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 		return application;
 	}
 
+	/**
+	 * Read the {{list}} Indicates Smart Card Application(s).  {{param}} is only relevant when {{param|Type}} has a value of UICC, otherwise it is {{empty}}. 
+
+Enumerated value must be one of [SIM, USIM, ISIM]
+
+          Vendors can extend the enumerated values with vendor specific extensions, in which case the rules outlined in {{bibref|TR-106a2|Section 3.3}} MUST be adhered to.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewApplication() {
+		return application == null ? Collections.emptyList() : application;
+	}
+
 	/**
 	 * Set the {{list}} Indicates Smart Card Application(s).  {{param}} is only relevant when {{param|Type}} has a value of UICC, otherwise it is {{empty}}. 
 
@@ -183,6 +209,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public void  setApplication(Collection<String> application) {
 		this.application = application;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -198,6 +225,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public SmartCard withApplication(String string) {
 		getApplication().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -219,6 +247,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -230,6 +259,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public SmartCard withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -251,6 +281,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public void  setAtr(String atr) {
 		this.atr = atr;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -262,6 +293,7 @@ Enumerated value must be one of [SIM, USIM, ISIM]
 	 */
 	public SmartCard withAtr(String atr) {
 		this.atr = atr;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.softwaremodules;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table serves as the Deployment Unit inventory and contains status information about each Deployment Unit.
@@ -168,6 +171,16 @@ public class DeploymentUnit {
 	@XmlElement(name = "ExecutionEnvRef")
 	public String executionEnvRef;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public DeploymentUnit() {
 	}
 
@@ -194,6 +207,8 @@ public class DeploymentUnit {
 	 */
 	public void  setUuiD(String uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -207,6 +222,8 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withUuiD(String uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -228,6 +245,7 @@ public class DeploymentUnit {
 	 */
 	public void  setDuiD(String duiD) {
 		this.duiD = duiD;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -239,6 +257,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withDuiD(String duiD) {
 		this.duiD = duiD;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +279,8 @@ public class DeploymentUnit {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -271,6 +292,8 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -296,6 +319,7 @@ public class DeploymentUnit {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -309,6 +333,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -330,6 +355,7 @@ public class DeploymentUnit {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -341,6 +367,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -362,6 +389,7 @@ public class DeploymentUnit {
 	 */
 	public void  setResolved(Boolean resolved) {
 		this.resolved = resolved;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -373,6 +401,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withResolved(Boolean resolved) {
 		this.resolved = resolved;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -394,6 +423,7 @@ public class DeploymentUnit {
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -405,6 +435,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -426,6 +457,7 @@ public class DeploymentUnit {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -437,6 +469,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -462,6 +495,7 @@ public class DeploymentUnit {
 	 */
 	public void  setVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -475,6 +509,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -496,6 +531,8 @@ public class DeploymentUnit {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -507,6 +544,8 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -525,6 +564,21 @@ public class DeploymentUnit {
 		return vendorLogList;
 	}
 
+	/**
+	 * Read the represents the vendor log files that have come into existence because of this {{object}}.  This does not include any vendor log files that have come into existence because of {{object|#.ExecutionUnit}} instances that are contained within this {{object}}.
+
+          When this {{object}} is uninstalled the vendor log files referenced here SHOULD be removed from the CPE.
+
+          Not all {{object}} instances will actually have a corresponding vendor log file, in which case the value of this parameter will be {{empty}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVendorLogList() {
+		return vendorLogList == null ? Collections.emptyList() : vendorLogList;
+	}
+
 	/**
 	 * Set the represents the vendor log files that have come into existence because of this {{object}}.  This does not include any vendor log files that have come into existence because of {{object|#.ExecutionUnit}} instances that are contained within this {{object}}.
 
@@ -537,6 +591,7 @@ public class DeploymentUnit {
 	 */
 	public void  setVendorLogList(Collection<String> vendorLogList) {
 		this.vendorLogList = vendorLogList;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -552,6 +607,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withVendorLogList(String string) {
 		getVendorLogList().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -570,6 +626,21 @@ public class DeploymentUnit {
 		return vendorConfigList;
 	}
 
+	/**
+	 * Read the represents the vendor config files that have come into existence because of this {{object}}.  This does not include any vendor config files that have come into existence because of {{object|#.ExecutionUnit}} instances that are contained within this {{object}}.
+
+          When this {{object}} is uninstalled the vendor config files referenced here SHOULD be removed from the CPE.
+
+          Not all {{object}} instances will actually have a corresponding vendor config file, in which case the value of this parameter will be {{empty}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVendorConfigList() {
+		return vendorConfigList == null ? Collections.emptyList() : vendorConfigList;
+	}
+
 	/**
 	 * Set the represents the vendor config files that have come into existence because of this {{object}}.  This does not include any vendor config files that have come into existence because of {{object|#.ExecutionUnit}} instances that are contained within this {{object}}.
 
@@ -582,6 +653,7 @@ public class DeploymentUnit {
 	 */
 	public void  setVendorConfigList(Collection<String> vendorConfigList) {
 		this.vendorConfigList = vendorConfigList;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -597,6 +669,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withVendorConfigList(String string) {
 		getVendorConfigList().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -611,6 +684,17 @@ public class DeploymentUnit {
 		return executionUnitList;
 	}
 
+	/**
+	 * Read the represents the {{object|#.ExecutionUnit}} instances that are associated with this {{object}} instance.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewExecutionUnitList() {
+		return executionUnitList == null ? Collections.emptyList() : executionUnitList;
+	}
+
 	/**
 	 * Set the represents the {{object|#.ExecutionUnit}} instances that are associated with this {{object}} instance.
 	 *
@@ -619,6 +703,7 @@ public class DeploymentUnit {
 	 */
 	public void  setExecutionUnitList(Collection<String> executionUnitList) {
 		this.executionUnitList = executionUnitList;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -630,6 +715,7 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withExecutionUnitList(String string) {
 		getExecutionUnitList().add(string);
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -651,6 +737,8 @@ public class DeploymentUnit {
 	 */
 	public void  setExecutionEnvRef(String executionEnvRef) {
 		this.executionEnvRef = executionEnvRef;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -662,6 +750,8 @@ public class DeploymentUnit {
 	 */
 	public DeploymentUnit withExecutionEnvRef(String executionEnvRef) {
 		this.executionEnvRef = executionEnvRef;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.softwaremodules;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The Execution Environments that are available on the device, along with their properties and configurable settings.
@@ -238,6 +241,16 @@ public class ExecEnv {
 	@XmlList
 	public Collection<String> processorRefList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ExecEnv() {
 	}
 
@@ -280,6 +293,7 @@ public class ExecEnv {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -301,6 +315,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -322,6 +337,7 @@ public class ExecEnv {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -333,6 +349,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -378,6 +395,7 @@ public class ExecEnv {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -401,6 +419,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -422,6 +441,8 @@ public class ExecEnv {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -433,6 +454,8 @@ public class ExecEnv {
 	 */
 	public ExecEnv withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -454,6 +477,8 @@ public class ExecEnv {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -465,6 +490,8 @@ public class ExecEnv {
 	 */
 	public ExecEnv withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -486,6 +513,7 @@ public class ExecEnv {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -497,6 +525,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -526,6 +555,7 @@ public class ExecEnv {
 	 */
 	public void  setInitialRunLevel(Long initialRunLevel) {
 		this.initialRunLevel = initialRunLevel;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -541,6 +571,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withInitialRunLevel(Long initialRunLevel) {
 		this.initialRunLevel = initialRunLevel;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -570,6 +601,7 @@ public class ExecEnv {
 	 */
 	public void  setRequestedRunLevel(Integer requestedRunLevel) {
 		this.requestedRunLevel = requestedRunLevel;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -585,6 +617,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withRequestedRunLevel(Integer requestedRunLevel) {
 		this.requestedRunLevel = requestedRunLevel;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -618,6 +651,7 @@ public class ExecEnv {
 	 */
 	public void  setCurrentRunLevel(Integer currentRunLevel) {
 		this.currentRunLevel = currentRunLevel;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -635,6 +669,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withCurrentRunLevel(Integer currentRunLevel) {
 		this.currentRunLevel = currentRunLevel;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -660,6 +695,7 @@ public class ExecEnv {
 	 */
 	public void  setInitialExecutionUnitRunLevel(Integer initialExecutionUnitRunLevel) {
 		this.initialExecutionUnitRunLevel = initialExecutionUnitRunLevel;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -673,6 +709,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withInitialExecutionUnitRunLevel(Integer initialExecutionUnitRunLevel) {
 		this.initialExecutionUnitRunLevel = initialExecutionUnitRunLevel;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -694,6 +731,7 @@ public class ExecEnv {
 	 */
 	public void  setVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -705,6 +743,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -726,6 +765,7 @@ public class ExecEnv {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -737,6 +777,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -762,6 +803,7 @@ public class ExecEnv {
 	 */
 	public void  setParentExecEnv(String parentExecEnv) {
 		this.parentExecEnv = parentExecEnv;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -775,6 +817,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withParentExecEnv(String parentExecEnv) {
 		this.parentExecEnv = parentExecEnv;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -796,6 +839,7 @@ public class ExecEnv {
 	 */
 	public void  setAllocatedDiskSpace(Integer allocatedDiskSpace) {
 		this.allocatedDiskSpace = allocatedDiskSpace;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -807,6 +851,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withAllocatedDiskSpace(Integer allocatedDiskSpace) {
 		this.allocatedDiskSpace = allocatedDiskSpace;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -828,6 +873,7 @@ public class ExecEnv {
 	 */
 	public void  setAvailableDiskSpace(Integer availableDiskSpace) {
 		this.availableDiskSpace = availableDiskSpace;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -839,6 +885,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withAvailableDiskSpace(Integer availableDiskSpace) {
 		this.availableDiskSpace = availableDiskSpace;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -860,6 +907,7 @@ public class ExecEnv {
 	 */
 	public void  setAllocatedMemory(Integer allocatedMemory) {
 		this.allocatedMemory = allocatedMemory;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -871,6 +919,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withAllocatedMemory(Integer allocatedMemory) {
 		this.allocatedMemory = allocatedMemory;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -892,6 +941,7 @@ public class ExecEnv {
 	 */
 	public void  setAvailableMemory(Integer availableMemory) {
 		this.availableMemory = availableMemory;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -903,6 +953,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withAvailableMemory(Integer availableMemory) {
 		this.availableMemory = availableMemory;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -917,6 +968,17 @@ public class ExecEnv {
 		return activeExecutionUnits;
 	}
 
+	/**
+	 * Read the represents the {{object|#.ExecutionUnit}} instances currently running on this {{object}}.  This parameter only contains {{object|#.ExecutionUnit}} instances that currently have a {{param|#.ExecutionUnit.{i}.Status}} of {{enum|Active|#.ExecutionUnit.{i}.Status}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewActiveExecutionUnits() {
+		return activeExecutionUnits == null ? Collections.emptyList() : activeExecutionUnits;
+	}
+
 	/**
 	 * Set the represents the {{object|#.ExecutionUnit}} instances currently running on this {{object}}.  This parameter only contains {{object|#.ExecutionUnit}} instances that currently have a {{param|#.ExecutionUnit.{i}.Status}} of {{enum|Active|#.ExecutionUnit.{i}.Status}}.
 	 *
@@ -925,6 +987,7 @@ public class ExecEnv {
 	 */
 	public void  setActiveExecutionUnits(Collection<String> activeExecutionUnits) {
 		this.activeExecutionUnits = activeExecutionUnits;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -936,6 +999,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withActiveExecutionUnits(String string) {
 		getActiveExecutionUnits().add(string);
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -950,6 +1014,17 @@ public class ExecEnv {
 		return processorRefList;
 	}
 
+	/**
+	 * Read the represents the processors that this {{object}} has available to it.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewProcessorRefList() {
+		return processorRefList == null ? Collections.emptyList() : processorRefList;
+	}
+
 	/**
 	 * Set the represents the processors that this {{object}} has available to it.
 	 *
@@ -958,6 +1033,7 @@ public class ExecEnv {
 	 */
 	public void  setProcessorRefList(Collection<String> processorRefList) {
 		this.processorRefList = processorRefList;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -969,6 +1045,7 @@ public class ExecEnv {
 	 */
 	public ExecEnv withProcessorRefList(String string) {
 		getProcessorRefList().add(string);
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
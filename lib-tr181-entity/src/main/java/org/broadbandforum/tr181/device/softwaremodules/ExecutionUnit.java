@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.softwaremodules;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.softwaremodules.executionunit.Extensions;
 
 	/**
@@ -257,6 +260,16 @@ public class ExecutionUnit {
 	@XmlElement(name = "Extensions")
 	public Extensions extensions;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ExecutionUnit() {
 	}
 
@@ -283,6 +296,8 @@ public class ExecutionUnit {
 	 */
 	public void  setEuiD(String euiD) {
 		this.euiD = euiD;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -296,6 +311,8 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withEuiD(String euiD) {
 		this.euiD = euiD;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -317,6 +334,8 @@ public class ExecutionUnit {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -328,6 +347,8 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -349,6 +370,7 @@ public class ExecutionUnit {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -360,6 +382,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -381,6 +404,7 @@ public class ExecutionUnit {
 	 */
 	public void  setExecEnvLabel(String execEnvLabel) {
 		this.execEnvLabel = execEnvLabel;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -392,6 +416,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withExecEnvLabel(String execEnvLabel) {
 		this.execEnvLabel = execEnvLabel;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -413,6 +438,7 @@ public class ExecutionUnit {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -424,6 +450,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -449,6 +476,7 @@ public class ExecutionUnit {
 	 */
 	public void  setRequestedState(String requestedState) {
 		this.requestedState = requestedState;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -462,6 +490,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withRequestedState(String requestedState) {
 		this.requestedState = requestedState;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -487,6 +516,7 @@ public class ExecutionUnit {
 	 */
 	public void  setExecutionFaultCode(String executionFaultCode) {
 		this.executionFaultCode = executionFaultCode;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -500,6 +530,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withExecutionFaultCode(String executionFaultCode) {
 		this.executionFaultCode = executionFaultCode;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -525,6 +556,7 @@ public class ExecutionUnit {
 	 */
 	public void  setExecutionFaultMessage(String executionFaultMessage) {
 		this.executionFaultMessage = executionFaultMessage;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -538,6 +570,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withExecutionFaultMessage(String executionFaultMessage) {
 		this.executionFaultMessage = executionFaultMessage;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -563,6 +596,7 @@ public class ExecutionUnit {
 	 */
 	public void  setAutoStart(Boolean autoStart) {
 		this.autoStart = autoStart;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -576,6 +610,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withAutoStart(Boolean autoStart) {
 		this.autoStart = autoStart;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -605,6 +640,7 @@ public class ExecutionUnit {
 	 */
 	public void  setRunLevel(Long runLevel) {
 		this.runLevel = runLevel;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -620,6 +656,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withRunLevel(Long runLevel) {
 		this.runLevel = runLevel;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -641,6 +678,7 @@ public class ExecutionUnit {
 	 */
 	public void  setVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -652,6 +690,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withVendor(String vendor) {
 		this.vendor = vendor;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -673,6 +712,7 @@ public class ExecutionUnit {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -684,6 +724,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -705,6 +746,7 @@ public class ExecutionUnit {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -716,6 +758,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -737,6 +780,7 @@ public class ExecutionUnit {
 	 */
 	public void  setDiskSpaceInUse(Integer diskSpaceInUse) {
 		this.diskSpaceInUse = diskSpaceInUse;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -748,6 +792,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withDiskSpaceInUse(Integer diskSpaceInUse) {
 		this.diskSpaceInUse = diskSpaceInUse;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -769,6 +814,7 @@ public class ExecutionUnit {
 	 */
 	public void  setMemoryInUse(Integer memoryInUse) {
 		this.memoryInUse = memoryInUse;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -780,6 +826,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withMemoryInUse(Integer memoryInUse) {
 		this.memoryInUse = memoryInUse;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -796,6 +843,19 @@ public class ExecutionUnit {
 		return references;
 	}
 
+	/**
+	 * Read the represents the instances of multi-instanced objects that are directly controlled by, and have come into existence because of, this {{object}}.  See {{bibref|TR-157a3|Appendix II.3.2}} for more description and some examples.
+
+          NOTE: All other objects and parameters (i.e. not multi-instanced objects) that this {{object}} has caused to come into existence can be discovered via the {{object|.DeviceInfo.SupportedDataModel.{i}.}} table.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewReferences() {
+		return references == null ? Collections.emptyList() : references;
+	}
+
 	/**
 	 * Set the represents the instances of multi-instanced objects that are directly controlled by, and have come into existence because of, this {{object}}.  See {{bibref|TR-157a3|Appendix II.3.2}} for more description and some examples.
 
@@ -806,6 +866,7 @@ public class ExecutionUnit {
 	 */
 	public void  setReferences(Collection<String> references) {
 		this.references = references;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -819,6 +880,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withReferences(String string) {
 		getReferences().add(string);
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -835,6 +897,19 @@ public class ExecutionUnit {
 		return associatedProcessList;
 	}
 
+	/**
+	 * Read the represents the system processes that are active in the system because of this {{object}}.  
+
+          If {{param|Status}} is not {{enum|Active|Status}} it is expected that this list will be {{empty}}.  Some {{object}} instances MIGHT NOT have any system processes irrespective of the value of {{param|Status}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAssociatedProcessList() {
+		return associatedProcessList == null ? Collections.emptyList() : associatedProcessList;
+	}
+
 	/**
 	 * Set the represents the system processes that are active in the system because of this {{object}}.  
 
@@ -845,6 +920,7 @@ public class ExecutionUnit {
 	 */
 	public void  setAssociatedProcessList(Collection<String> associatedProcessList) {
 		this.associatedProcessList = associatedProcessList;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -858,6 +934,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withAssociatedProcessList(String string) {
 		getAssociatedProcessList().add(string);
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -876,6 +953,21 @@ public class ExecutionUnit {
 		return vendorLogList;
 	}
 
+	/**
+	 * Read the represents the vendor log files that have come into existence because of this {{object}}.  
+
+          When the {{object|#.DeploymentUnit}} (that caused this {{object}} to come into existence) is uninstalled the vendor log files referenced here SHOULD be removed from the CPE.
+
+          Not all {{object}} instances will actually have a corresponding vendor log file, in which case the value of this parameter will be {{empty}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVendorLogList() {
+		return vendorLogList == null ? Collections.emptyList() : vendorLogList;
+	}
+
 	/**
 	 * Set the represents the vendor log files that have come into existence because of this {{object}}.  
 
@@ -888,6 +980,7 @@ public class ExecutionUnit {
 	 */
 	public void  setVendorLogList(Collection<String> vendorLogList) {
 		this.vendorLogList = vendorLogList;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -903,6 +996,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withVendorLogList(String string) {
 		getVendorLogList().add(string);
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -921,6 +1015,21 @@ public class ExecutionUnit {
 		return vendorConfigList;
 	}
 
+	/**
+	 * Read the represents the vendor config files that have come into existence because of this {{object}}.  
+
+          When the {{object|#.DeploymentUnit}} (that caused this {{object}} to come into existence) is uninstalled the vendor config files referenced here SHOULD be removed from the CPE.
+
+          Not all {{object}} instances will actually have a corresponding vendor config file, in which case the value of this parameter will be {{empty}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewVendorConfigList() {
+		return vendorConfigList == null ? Collections.emptyList() : vendorConfigList;
+	}
+
 	/**
 	 * Set the represents the vendor config files that have come into existence because of this {{object}}.  
 
@@ -933,6 +1042,7 @@ public class ExecutionUnit {
 	 */
 	public void  setVendorConfigList(Collection<String> vendorConfigList) {
 		this.vendorConfigList = vendorConfigList;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -948,6 +1058,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withVendorConfigList(String string) {
 		getVendorConfigList().add(string);
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -962,6 +1073,17 @@ public class ExecutionUnit {
 		return supportedDataModelList;
 	}
 
+	/**
+	 * Read the represents the CWMP-DT schema instances that have been introduced to this device because of the existence of this {{object}}.
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedDataModelList() {
+		return supportedDataModelList == null ? Collections.emptyList() : supportedDataModelList;
+	}
+
 	/**
 	 * Set the represents the CWMP-DT schema instances that have been introduced to this device because of the existence of this {{object}}.
 	 *
@@ -970,6 +1092,7 @@ public class ExecutionUnit {
 	 */
 	public void  setSupportedDataModelList(Collection<String> supportedDataModelList) {
 		this.supportedDataModelList = supportedDataModelList;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -981,6 +1104,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withSupportedDataModelList(String string) {
 		getSupportedDataModelList().add(string);
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1002,6 +1126,7 @@ public class ExecutionUnit {
 	 */
 	public void  setExecutionEnvRef(String executionEnvRef) {
 		this.executionEnvRef = executionEnvRef;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1013,6 +1138,7 @@ public class ExecutionUnit {
 	 */
 	public ExecutionUnit withExecutionEnvRef(String executionEnvRef) {
 		this.executionEnvRef = executionEnvRef;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
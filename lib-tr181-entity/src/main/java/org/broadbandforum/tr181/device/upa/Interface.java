@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.upa;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +30,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.upa._interface.ActiveNotch;
 import org.broadbandforum.tr181.device.upa._interface.AssociatedDevice;
@@ -245,6 +248,16 @@ public class Interface {
 	@XmlElement(name = "BridgeFor")
 	public Collection<BridgeFor> bridgeFors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -271,6 +284,7 @@ public class Interface {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -284,6 +298,7 @@ public class Interface {
 	 */
 	public Interface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -317,6 +332,7 @@ public class Interface {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -334,6 +350,7 @@ public class Interface {
 	 */
 	public Interface withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -355,6 +372,8 @@ public class Interface {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -366,6 +385,8 @@ public class Interface {
 	 */
 	public Interface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -387,6 +408,8 @@ public class Interface {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -398,6 +421,8 @@ public class Interface {
 	 */
 	public Interface withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -419,6 +444,7 @@ public class Interface {
 	 */
 	public void  setLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -430,6 +456,7 @@ public class Interface {
 	 */
 	public Interface withLastChange(Long lastChange) {
 		this.lastChange = lastChange;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -446,6 +473,19 @@ public class Interface {
 		return lowerLayers;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
+
+          Note: Since {{object}} is a layer 1 interface, it is expected that {{param}} will not be used.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLowerLayers() {
+		return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|an interface object that is stacked immediately below this interface object}}  See {{bibref|TR-181i2|Section 4.2.1}}.
 
@@ -456,6 +496,7 @@ public class Interface {
 	 */
 	public void  setLowerLayers(Collection<String> lowerLayers) {
 		this.lowerLayers = lowerLayers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -469,6 +510,7 @@ public class Interface {
 	 */
 	public Interface withLowerLayers(String string) {
 		getLowerLayers().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -506,6 +548,7 @@ public class Interface {
 	 */
 	public void  setUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -525,6 +568,7 @@ public class Interface {
 	 */
 	public Interface withUpstream(Boolean upstream) {
 		this.upstream = upstream;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -550,6 +594,7 @@ public class Interface {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -563,6 +608,7 @@ public class Interface {
 	 */
 	public Interface withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -584,6 +630,7 @@ public class Interface {
 	 */
 	public void  setFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -595,6 +642,7 @@ public class Interface {
 	 */
 	public Interface withFirmwareVersion(String firmwareVersion) {
 		this.firmwareVersion = firmwareVersion;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -616,6 +664,7 @@ public class Interface {
 	 */
 	public void  setMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -627,6 +676,7 @@ public class Interface {
 	 */
 	public Interface withMaxBitRate(Long maxBitRate) {
 		this.maxBitRate = maxBitRate;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -648,6 +698,7 @@ public class Interface {
 	 */
 	public void  setNodeType(String nodeType) {
 		this.nodeType = nodeType;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -659,6 +710,7 @@ public class Interface {
 	 */
 	public Interface withNodeType(String nodeType) {
 		this.nodeType = nodeType;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -680,6 +732,7 @@ public class Interface {
 	 */
 	public void  setLogicalNetwork(String logicalNetwork) {
 		this.logicalNetwork = logicalNetwork;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -691,6 +744,7 @@ public class Interface {
 	 */
 	public Interface withLogicalNetwork(String logicalNetwork) {
 		this.logicalNetwork = logicalNetwork;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -712,6 +766,7 @@ public class Interface {
 	 */
 	public void  setEncryptionMethod(String encryptionMethod) {
 		this.encryptionMethod = encryptionMethod;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -723,6 +778,7 @@ public class Interface {
 	 */
 	public Interface withEncryptionMethod(String encryptionMethod) {
 		this.encryptionMethod = encryptionMethod;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -748,6 +804,7 @@ public class Interface {
 	 */
 	public void  setEncryptionKey(String encryptionKey) {
 		this.encryptionKey = encryptionKey;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -761,6 +818,7 @@ public class Interface {
 	 */
 	public Interface withEncryptionKey(String encryptionKey) {
 		this.encryptionKey = encryptionKey;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -782,6 +840,7 @@ public class Interface {
 	 */
 	public void  setPowerBackoffEnabled(Boolean powerBackoffEnabled) {
 		this.powerBackoffEnabled = powerBackoffEnabled;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -793,6 +852,7 @@ public class Interface {
 	 */
 	public Interface withPowerBackoffEnabled(Boolean powerBackoffEnabled) {
 		this.powerBackoffEnabled = powerBackoffEnabled;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -814,6 +874,7 @@ public class Interface {
 	 */
 	public void  setPowerBackoffMechanismActive(Boolean powerBackoffMechanismActive) {
 		this.powerBackoffMechanismActive = powerBackoffMechanismActive;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -825,6 +886,7 @@ public class Interface {
 	 */
 	public Interface withPowerBackoffMechanismActive(Boolean powerBackoffMechanismActive) {
 		this.powerBackoffMechanismActive = powerBackoffMechanismActive;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -846,6 +908,7 @@ public class Interface {
 	 */
 	public void  setEstApplicationThroughput(Long estApplicationThroughput) {
 		this.estApplicationThroughput = estApplicationThroughput;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -857,6 +920,7 @@ public class Interface {
 	 */
 	public Interface withEstApplicationThroughput(Long estApplicationThroughput) {
 		this.estApplicationThroughput = estApplicationThroughput;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -878,6 +942,7 @@ public class Interface {
 	 */
 	public void  setActiveNotchEnable(Boolean activeNotchEnable) {
 		this.activeNotchEnable = activeNotchEnable;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -889,6 +954,7 @@ public class Interface {
 	 */
 	public Interface withActiveNotchEnable(Boolean activeNotchEnable) {
 		this.activeNotchEnable = activeNotchEnable;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -933,10 +999,20 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<AssociatedDevice> getAssociatedDevices() {
-		if (this.associatedDevices == null){ this.associatedDevices=new ArrayList<>();}
+		if (!(this.associatedDevices instanceof InstanceTable)){ this.associatedDevices=InstanceTable.of(this.associatedDevices);}
 		return associatedDevices;
 	}
 
+	/**
+	 * Read the this table contains information about PLC connections running between this UPA interface and other UPA devices.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AssociatedDevice> viewAssociatedDevices() {
+		return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+	}
+
 	/**
 	 * Set the this table contains information about PLC connections running between this UPA interface and other UPA devices.
 	 *
@@ -967,10 +1043,24 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<ActiveNotch> getActiveNotchs() {
-		if (this.activeNotchs == null){ this.activeNotchs=new ArrayList<>();}
+		if (!(this.activeNotchs instanceof InstanceTable)){ this.activeNotchs=InstanceTable.of(this.activeNotchs);}
 		return activeNotchs;
 	}
 
+	/**
+	 * Read the this object contains the list of active notches of the UPA interface. 
+
+        A UPA device can have notches in its spectrum, where no power is transmitted in a given part of the spectrum. These notches are typically located in amateur radio bands, to avoid interference.
+
+        Note: All {{object}} entries can be enabled/disabled as a group using the {{param|#.ActiveNotchEnable}} parameter.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ActiveNotch> viewActiveNotchs() {
+		return activeNotchs == null ? Collections.emptyList() : activeNotchs;
+	}
+
 	/**
 	 * Set the this object contains the list of active notches of the UPA interface. 
 
@@ -1007,10 +1097,22 @@ public class Interface {
 	 * @return the value
 	 */
 	public Collection<BridgeFor> getBridgeFors() {
-		if (this.bridgeFors == null){ this.bridgeFors=new ArrayList<>();}
+		if (!(this.bridgeFors instanceof InstanceTable)){ this.bridgeFors=InstanceTable.of(this.bridgeFors);}
 		return bridgeFors;
 	}
 
+	/**
+	 * Read the this object represents the bridge table of the UPA interface. Each instance is a bridge table entry.
+
+        It shows the MAC addresses of the remote UPA devices with their associated port number, and the MAC addresses of the end-devices (PCs, STBs, routers, etc) connected to Ethernet port of the powerline adapters with their associated logical port. In this way the system identifies to which UPA device an external device is connected to.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BridgeFor> viewBridgeFors() {
+		return bridgeFors == null ? Collections.emptyList() : bridgeFors;
+	}
+
 	/**
 	 * Set the this object represents the bridge table of the UPA interface. Each instance is a bridge table entry.
 
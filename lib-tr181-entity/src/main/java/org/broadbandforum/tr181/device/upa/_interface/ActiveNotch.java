@@ -24,6 +24,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains the list of active notches of the UPA interface. 
@@ -81,6 +83,16 @@ public class ActiveNotch {
 	@CWMPParameter(access = "readWrite", units = "dB")
 	public Long depth;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ActiveNotch() {
 	}
 
@@ -103,6 +115,7 @@ public class ActiveNotch {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -114,6 +127,7 @@ public class ActiveNotch {
 	 */
 	public ActiveNotch withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +149,8 @@ public class ActiveNotch {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -146,6 +162,8 @@ public class ActiveNotch {
 	 */
 	public ActiveNotch withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +185,7 @@ public class ActiveNotch {
 	 */
 	public void  setStartFreq(Long startFreq) {
 		this.startFreq = startFreq;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -178,6 +197,7 @@ public class ActiveNotch {
 	 */
 	public ActiveNotch withStartFreq(Long startFreq) {
 		this.startFreq = startFreq;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -199,6 +219,7 @@ public class ActiveNotch {
 	 */
 	public void  setStopFreq(Long stopFreq) {
 		this.stopFreq = stopFreq;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -210,6 +231,7 @@ public class ActiveNotch {
 	 */
 	public ActiveNotch withStopFreq(Long stopFreq) {
 		this.stopFreq = stopFreq;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -231,6 +253,7 @@ public class ActiveNotch {
 	 */
 	public void  setDepth(Long depth) {
 		this.depth = depth;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -242,6 +265,7 @@ public class ActiveNotch {
 	 */
 	public ActiveNotch withDepth(Long depth) {
 		this.depth = depth;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -121,6 +123,16 @@ public class AssociatedDevice {
 	@XmlElement(name = "Active")
 	public Boolean active;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -143,6 +155,8 @@ public class AssociatedDevice {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -154,6 +168,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -175,6 +191,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -186,6 +203,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -211,6 +229,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLogicalNetwork(String logicalNetwork) {
 		this.logicalNetwork = logicalNetwork;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -224,6 +243,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLogicalNetwork(String logicalNetwork) {
 		this.logicalNetwork = logicalNetwork;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -245,6 +265,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPhyTxThroughput(Long phyTxThroughput) {
 		this.phyTxThroughput = phyTxThroughput;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -256,6 +277,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPhyTxThroughput(Long phyTxThroughput) {
 		this.phyTxThroughput = phyTxThroughput;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -277,6 +299,7 @@ public class AssociatedDevice {
 	 */
 	public void  setPhyRxThroughput(Long phyRxThroughput) {
 		this.phyRxThroughput = phyRxThroughput;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -288,6 +311,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withPhyRxThroughput(Long phyRxThroughput) {
 		this.phyRxThroughput = phyRxThroughput;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -309,6 +333,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRealPhyRxThroughput(Long realPhyRxThroughput) {
 		this.realPhyRxThroughput = realPhyRxThroughput;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -320,6 +345,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRealPhyRxThroughput(Long realPhyRxThroughput) {
 		this.realPhyRxThroughput = realPhyRxThroughput;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -341,6 +367,7 @@ public class AssociatedDevice {
 	 */
 	public void  setEstimatedPLR(Long estimatedPLR) {
 		this.estimatedPLR = estimatedPLR;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -352,6 +379,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withEstimatedPLR(Long estimatedPLR) {
 		this.estimatedPLR = estimatedPLR;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -373,6 +401,7 @@ public class AssociatedDevice {
 	 */
 	public void  setMeanEstimatedAtt(Long meanEstimatedAtt) {
 		this.meanEstimatedAtt = meanEstimatedAtt;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -384,6 +413,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMeanEstimatedAtt(Long meanEstimatedAtt) {
 		this.meanEstimatedAtt = meanEstimatedAtt;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -405,6 +435,7 @@ public class AssociatedDevice {
 	 */
 	public void  setSmartRouteIntermediatePLCMAC(MACAddress smartRouteIntermediatePLCMAC) {
 		this.smartRouteIntermediatePLCMAC = smartRouteIntermediatePLCMAC;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -416,6 +447,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withSmartRouteIntermediatePLCMAC(MACAddress smartRouteIntermediatePLCMAC) {
 		this.smartRouteIntermediatePLCMAC = smartRouteIntermediatePLCMAC;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -437,6 +469,7 @@ public class AssociatedDevice {
 	 */
 	public void  setDirectRoute(Boolean directRoute) {
 		this.directRoute = directRoute;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -448,6 +481,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withDirectRoute(Boolean directRoute) {
 		this.directRoute = directRoute;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -473,6 +507,7 @@ public class AssociatedDevice {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -486,6 +521,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides access to either a Signal-to-Noise-Ratio (SNR) Port Measurement test or a Channel Frequency Response (CFR) Port Measurement test. The {{param|Type}} parameter is used to select which type of test to perform.
@@ -89,6 +90,11 @@ public class InterfaceMeasurement {
 	@XmlElement(name = "RxGain")
 	public Integer rxgain;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterfaceMeasurement() {
 	}
 
@@ -111,6 +117,7 @@ public class InterfaceMeasurement {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +129,7 @@ public class InterfaceMeasurement {
 	 */
 	public InterfaceMeasurement withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +151,7 @@ public class InterfaceMeasurement {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +163,7 @@ public class InterfaceMeasurement {
 	 */
 	public InterfaceMeasurement withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -175,6 +185,7 @@ public class InterfaceMeasurement {
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +197,7 @@ public class InterfaceMeasurement {
 	 */
 	public InterfaceMeasurement with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -207,6 +219,7 @@ public class InterfaceMeasurement {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -218,6 +231,7 @@ public class InterfaceMeasurement {
 	 */
 	public InterfaceMeasurement withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -243,6 +257,7 @@ public class InterfaceMeasurement {
 	 */
 	public void  setMeasurements(Long measurements) {
 		this.measurements = measurements;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -256,6 +271,7 @@ public class InterfaceMeasurement {
 	 */
 	public InterfaceMeasurement withMeasurements(Long measurements) {
 		this.measurements = measurements;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -277,6 +293,7 @@ public class InterfaceMeasurement {
 	 */
 	public void  setRxgain(Integer rxgain) {
 		this.rxgain = rxgain;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -288,6 +305,7 @@ public class InterfaceMeasurement {
 	 */
 	public InterfaceMeasurement withRxgain(Integer rxgain) {
 		this.rxgain = rxgain;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
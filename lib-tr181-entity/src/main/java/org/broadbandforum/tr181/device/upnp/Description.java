@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.upnp;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.upnp.description.DeviceDescription;
 import org.broadbandforum.tr181.device.upnp.description.DeviceInstance;
 import org.broadbandforum.tr181.device.upnp.description.ServiceInstance;
@@ -76,10 +77,24 @@ public class Description {
 	 * @return the value
 	 */
 	public Collection<DeviceDescription> getDeviceDescriptions() {
-		if (this.deviceDescriptions == null){ this.deviceDescriptions=new ArrayList<>();}
+		if (!(this.deviceDescriptions instanceof InstanceTable)){ this.deviceDescriptions=InstanceTable.of(this.deviceDescriptions);}
 		return deviceDescriptions;
 	}
 
+	/**
+	 * Read the this table contains information read from the Device Description Document of discovered root devices.
+
+        The CPE MAY, but need not, retain some or all of the information in this table after the associated SSDP advertisement (objects in the  UPnP.Discovery. object tables) expires. 
+
+        In case the SSDP advertisement expires and the CPE deletes the related instances from the tables in UPnP.Discovery., the reference to such instances MUST be set to the empty string.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<DeviceDescription> viewDeviceDescriptions() {
+		return deviceDescriptions == null ? Collections.emptyList() : deviceDescriptions;
+	}
+
 	/**
 	 * Set the this table contains information read from the Device Description Document of discovered root devices.
 
@@ -114,10 +129,20 @@ public class Description {
 	 * @return the value
 	 */
 	public Collection<DeviceInstance> getDeviceInstances() {
-		if (this.deviceInstances == null){ this.deviceInstances=new ArrayList<>();}
+		if (!(this.deviceInstances instanceof InstanceTable)){ this.deviceInstances=InstanceTable.of(this.deviceInstances);}
 		return deviceInstances;
 	}
 
+	/**
+	 * Read the this table contains the information from Device Description Document retrieved for a discovered UPnP root or embedded device.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<DeviceInstance> viewDeviceInstances() {
+		return deviceInstances == null ? Collections.emptyList() : deviceInstances;
+	}
+
 	/**
 	 * Set the this table contains the information from Device Description Document retrieved for a discovered UPnP root or embedded device.
 	 *
@@ -144,10 +169,20 @@ public class Description {
 	 * @return the value
 	 */
 	public Collection<ServiceInstance> getServiceInstances() {
-		if (this.serviceInstances == null){ this.serviceInstances=new ArrayList<>();}
+		if (!(this.serviceInstances instanceof InstanceTable)){ this.serviceInstances=InstanceTable.of(this.serviceInstances);}
 		return serviceInstances;
 	}
 
+	/**
+	 * Read the this table contains the information from Device Description Document retrieved for a discovered UPnP service.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ServiceInstance> viewServiceInstances() {
+		return serviceInstances == null ? Collections.emptyList() : serviceInstances;
+	}
+
 	/**
 	 * Set the this table contains the information from Device Description Document retrieved for a discovered UPnP service.
 	 *
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr181.device.upnp.device.Capabilities;
 
 	/**
@@ -121,6 +122,11 @@ public class Device {
 	@XmlElement(name = "Capabilities")
 	public Capabilities capabilities;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Device() {
 	}
 
@@ -143,6 +149,7 @@ public class Device {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -154,6 +161,7 @@ public class Device {
 	 */
 	public Device withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -175,6 +183,7 @@ public class Device {
 	 */
 	public void  setUpnPMediaServer(Boolean upnPMediaServer) {
 		this.upnPMediaServer = upnPMediaServer;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -186,6 +195,7 @@ public class Device {
 	 */
 	public Device withUpnPMediaServer(Boolean upnPMediaServer) {
 		this.upnPMediaServer = upnPMediaServer;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -207,6 +217,7 @@ public class Device {
 	 */
 	public void  setUpnPMediaRenderer(Boolean upnPMediaRenderer) {
 		this.upnPMediaRenderer = upnPMediaRenderer;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -218,6 +229,7 @@ public class Device {
 	 */
 	public Device withUpnPMediaRenderer(Boolean upnPMediaRenderer) {
 		this.upnPMediaRenderer = upnPMediaRenderer;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -239,6 +251,7 @@ public class Device {
 	 */
 	public void  setUpnPWLANAccessPoint(Boolean upnPWLANAccessPoint) {
 		this.upnPWLANAccessPoint = upnPWLANAccessPoint;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -250,6 +263,7 @@ public class Device {
 	 */
 	public Device withUpnPWLANAccessPoint(Boolean upnPWLANAccessPoint) {
 		this.upnPWLANAccessPoint = upnPWLANAccessPoint;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -271,6 +285,7 @@ public class Device {
 	 */
 	public void  setUpnPQoSDevice (Boolean upnPQoSDevice ) {
 		this.upnPQoSDevice  = upnPQoSDevice ;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -282,6 +297,7 @@ public class Device {
 	 */
 	public Device withUpnPQoSDevice (Boolean upnPQoSDevice ) {
 		this.upnPQoSDevice  = upnPQoSDevice ;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -303,6 +319,7 @@ public class Device {
 	 */
 	public void  setUpnPQoSPolicyHolder(Boolean upnPQoSPolicyHolder) {
 		this.upnPQoSPolicyHolder = upnPQoSPolicyHolder;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -314,6 +331,7 @@ public class Device {
 	 */
 	public Device withUpnPQoSPolicyHolder(Boolean upnPQoSPolicyHolder) {
 		this.upnPQoSPolicyHolder = upnPQoSPolicyHolder;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -335,6 +353,7 @@ public class Device {
 	 */
 	public void  setUpnPIGD(Boolean upnPIGD) {
 		this.upnPIGD = upnPIGD;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -346,6 +365,7 @@ public class Device {
 	 */
 	public Device withUpnPIGD(Boolean upnPIGD) {
 		this.upnPIGD = upnPIGD;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -367,6 +387,7 @@ public class Device {
 	 */
 	public void  setUpnPDMBasicMgmt(Boolean upnPDMBasicMgmt) {
 		this.upnPDMBasicMgmt = upnPDMBasicMgmt;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -378,6 +399,7 @@ public class Device {
 	 */
 	public Device withUpnPDMBasicMgmt(Boolean upnPDMBasicMgmt) {
 		this.upnPDMBasicMgmt = upnPDMBasicMgmt;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -399,6 +421,7 @@ public class Device {
 	 */
 	public void  setUpnPDMConfigurationMgmt(Boolean upnPDMConfigurationMgmt) {
 		this.upnPDMConfigurationMgmt = upnPDMConfigurationMgmt;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -410,6 +433,7 @@ public class Device {
 	 */
 	public Device withUpnPDMConfigurationMgmt(Boolean upnPDMConfigurationMgmt) {
 		this.upnPDMConfigurationMgmt = upnPDMConfigurationMgmt;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -431,6 +455,7 @@ public class Device {
 	 */
 	public void  setUpnPDMSoftwareMgmt(Boolean upnPDMSoftwareMgmt) {
 		this.upnPDMSoftwareMgmt = upnPDMSoftwareMgmt;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -442,6 +467,7 @@ public class Device {
 	 */
 	public Device withUpnPDMSoftwareMgmt(Boolean upnPDMSoftwareMgmt) {
 		this.upnPDMSoftwareMgmt = upnPDMSoftwareMgmt;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
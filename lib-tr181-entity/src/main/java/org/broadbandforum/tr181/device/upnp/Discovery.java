@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.upnp;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.upnp.discovery.Device;
 import org.broadbandforum.tr181.device.upnp.discovery.RootDevice;
 import org.broadbandforum.tr181.device.upnp.discovery.Service;
@@ -70,10 +71,20 @@ public class Discovery {
 	 * @return the value
 	 */
 	public Collection<RootDevice> getRootDevices() {
-		if (this.rootDevices == null){ this.rootDevices=new ArrayList<>();}
+		if (!(this.rootDevices instanceof InstanceTable)){ this.rootDevices=InstanceTable.of(this.rootDevices);}
 		return rootDevices;
 	}
 
+	/**
+	 * Read the upnP root device table. This table contains an entry for each UPnP root device that has been discovered via SSDP.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RootDevice> viewRootDevices() {
+		return rootDevices == null ? Collections.emptyList() : rootDevices;
+	}
+
 	/**
 	 * Set the upnP root device table. This table contains an entry for each UPnP root device that has been discovered via SSDP.
 	 *
@@ -100,10 +111,20 @@ public class Discovery {
 	 * @return the value
 	 */
 	public Collection<Device> getDevices() {
-		if (this.devices == null){ this.devices=new ArrayList<>();}
+		if (!(this.devices instanceof InstanceTable)){ this.devices=InstanceTable.of(this.devices);}
 		return devices;
 	}
 
+	/**
+	 * Read the upnP embedded device table. This table contains an entry for each UPnP embedded device that has been discovered via SSDP.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Device> viewDevices() {
+		return devices == null ? Collections.emptyList() : devices;
+	}
+
 	/**
 	 * Set the upnP embedded device table. This table contains an entry for each UPnP embedded device that has been discovered via SSDP.
 	 *
@@ -130,10 +151,20 @@ public class Discovery {
 	 * @return the value
 	 */
 	public Collection<Service> getServices() {
-		if (this.services == null){ this.services=new ArrayList<>();}
+		if (!(this.services instanceof InstanceTable)){ this.services=InstanceTable.of(this.services);}
 		return services;
 	}
 
+	/**
+	 * Read the upnP embedded service table. This table contains an entry for each UPnP embedded service that has been discovered via SSDP.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Service> viewServices() {
+		return services == null ? Collections.emptyList() : services;
+	}
+
 	/**
 	 * Set the upnP embedded service table. This table contains an entry for each UPnP embedded service that has been discovered via SSDP.
 	 *
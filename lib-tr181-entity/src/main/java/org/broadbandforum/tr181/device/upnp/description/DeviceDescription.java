@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.upnp.description;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains information read from the Device Description Document of discovered root devices.
@@ -72,6 +75,16 @@ public class DeviceDescription {
 	@XmlList
 	public Collection<String> host;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public DeviceDescription() {
 	}
 
@@ -98,6 +111,8 @@ public class DeviceDescription {
 	 */
 	public void  setUrlBase(String urlBase) {
 		this.urlBase = urlBase;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -111,6 +126,8 @@ public class DeviceDescription {
 	 */
 	public DeviceDescription withUrlBase(String urlBase) {
 		this.urlBase = urlBase;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -132,6 +149,7 @@ public class DeviceDescription {
 	 */
 	public void  setSpecVersion(String specVersion) {
 		this.specVersion = specVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -143,6 +161,7 @@ public class DeviceDescription {
 	 */
 	public DeviceDescription withSpecVersion(String specVersion) {
 		this.specVersion = specVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -157,6 +176,17 @@ public class DeviceDescription {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} {{reference|the Host table entries associated with the root device from which the device description was retrieved|ignore}}
+	 *
+	 * @since 2.6
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} {{reference|the Host table entries associated with the root device from which the device description was retrieved|ignore}}
 	 *
@@ -165,6 +195,7 @@ public class DeviceDescription {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +207,7 @@ public class DeviceDescription {
 	 */
 	public DeviceDescription withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.upnp.description;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.UUID;
 
 	/**
@@ -185,6 +188,16 @@ public class DeviceInstance {
 	@Size(max = 256)
 	public String presentationURL;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public DeviceInstance() {
 	}
 
@@ -211,6 +224,8 @@ public class DeviceInstance {
 	 */
 	public void  setUdn(UUID udn) {
 		this.udn = udn;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -224,6 +239,8 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withUdn(UUID udn) {
 		this.udn = udn;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -245,6 +262,7 @@ public class DeviceInstance {
 	 */
 	public void  setParentDevice(String parentDevice) {
 		this.parentDevice = parentDevice;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -256,6 +274,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withParentDevice(String parentDevice) {
 		this.parentDevice = parentDevice;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -281,6 +300,7 @@ public class DeviceInstance {
 	 */
 	public void  setDiscoveryDevice(String discoveryDevice) {
 		this.discoveryDevice = discoveryDevice;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -294,6 +314,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withDiscoveryDevice(String discoveryDevice) {
 		this.discoveryDevice = discoveryDevice;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -315,6 +336,7 @@ public class DeviceInstance {
 	 */
 	public void  setDeviceType(String deviceType) {
 		this.deviceType = deviceType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -326,6 +348,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withDeviceType(String deviceType) {
 		this.deviceType = deviceType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -347,6 +370,7 @@ public class DeviceInstance {
 	 */
 	public void  setFriendlyName(String friendlyName) {
 		this.friendlyName = friendlyName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -358,6 +382,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withFriendlyName(String friendlyName) {
 		this.friendlyName = friendlyName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -376,6 +401,21 @@ public class DeviceInstance {
 		return deviceCategory;
 	}
 
+	/**
+	 * Read the each list item is the value of an element in the Device Description Document for this {{object}} that indicates a device category (e.g. "AV_TV" and "AV_Recorder"), or the value is {{empty}} if no such element is provided by the device.
+
+          Note: It is assumed that the ''htip:X_DeviceCategory'' Device Description Document element is used for HTIP (Home-network Topology Identifying Protocol) {{bibref|JJ-300.00}} and {{bibref|G.9973}}. Standard HTIP device categories are defined in {{bibref|JJ-300.01}}. In this case, the maximum length of the list is 127 and of each item is 31, and any non-HTIP device categories SHOULD NOT conflict with standard HTIP device categories.
+
+          Note: {{param}} is different from {{param|DeviceType}} and is included here for the purpose of HTIP usage.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDeviceCategory() {
+		return deviceCategory == null ? Collections.emptyList() : deviceCategory;
+	}
+
 	/**
 	 * Set the each list item is the value of an element in the Device Description Document for this {{object}} that indicates a device category (e.g. "AV_TV" and "AV_Recorder"), or the value is {{empty}} if no such element is provided by the device.
 
@@ -388,6 +428,7 @@ public class DeviceInstance {
 	 */
 	public void  setDeviceCategory(Collection<String> deviceCategory) {
 		this.deviceCategory = deviceCategory;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -403,6 +444,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withDeviceCategory(String string) {
 		getDeviceCategory().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -424,6 +466,7 @@ public class DeviceInstance {
 	 */
 	public void  setManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -435,6 +478,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -464,6 +508,7 @@ public class DeviceInstance {
 	 */
 	public void  setManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -479,6 +524,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withManufacturerOUI(String manufacturerOUI) {
 		this.manufacturerOUI = manufacturerOUI;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -500,6 +546,7 @@ public class DeviceInstance {
 	 */
 	public void  setManufacturerURL(String manufacturerURL) {
 		this.manufacturerURL = manufacturerURL;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -511,6 +558,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withManufacturerURL(String manufacturerURL) {
 		this.manufacturerURL = manufacturerURL;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -532,6 +580,7 @@ public class DeviceInstance {
 	 */
 	public void  setModelDescription(String modelDescription) {
 		this.modelDescription = modelDescription;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -543,6 +592,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withModelDescription(String modelDescription) {
 		this.modelDescription = modelDescription;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -564,6 +614,7 @@ public class DeviceInstance {
 	 */
 	public void  setModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -575,6 +626,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -596,6 +648,7 @@ public class DeviceInstance {
 	 */
 	public void  setModelNumber(String modelNumber) {
 		this.modelNumber = modelNumber;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -607,6 +660,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withModelNumber(String modelNumber) {
 		this.modelNumber = modelNumber;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -628,6 +682,7 @@ public class DeviceInstance {
 	 */
 	public void  setModelURL(String modelURL) {
 		this.modelURL = modelURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -639,6 +694,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withModelURL(String modelURL) {
 		this.modelURL = modelURL;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -660,6 +716,7 @@ public class DeviceInstance {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -671,6 +728,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -692,6 +750,7 @@ public class DeviceInstance {
 	 */
 	public void  setUpc(String upc) {
 		this.upc = upc;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -703,6 +762,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withUpc(String upc) {
 		this.upc = upc;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -732,6 +792,7 @@ public class DeviceInstance {
 	 */
 	public void  setPresentationURL(String presentationURL) {
 		this.presentationURL = presentationURL;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -747,6 +808,7 @@ public class DeviceInstance {
 	 */
 	public DeviceInstance withPresentationURL(String presentationURL) {
 		this.presentationURL = presentationURL;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
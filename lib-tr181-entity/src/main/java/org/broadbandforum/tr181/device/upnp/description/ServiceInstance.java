@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This table contains the information from Device Description Document retrieved for a discovered UPnP service.
@@ -105,6 +107,16 @@ public class ServiceInstance {
 	@XmlElement(name = "EventSubURL")
 	public String eventSubURL;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ServiceInstance() {
 	}
 
@@ -127,6 +139,8 @@ public class ServiceInstance {
 	 */
 	public void  setParentDevice(String parentDevice) {
 		this.parentDevice = parentDevice;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -138,6 +152,8 @@ public class ServiceInstance {
 	 */
 	public ServiceInstance withParentDevice(String parentDevice) {
 		this.parentDevice = parentDevice;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -163,6 +179,8 @@ public class ServiceInstance {
 	 */
 	public void  setServiceId(String serviceId) {
 		this.serviceId = serviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -176,6 +194,8 @@ public class ServiceInstance {
 	 */
 	public ServiceInstance withServiceId(String serviceId) {
 		this.serviceId = serviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -201,6 +221,7 @@ public class ServiceInstance {
 	 */
 	public void  setServiceDiscovery(String serviceDiscovery) {
 		this.serviceDiscovery = serviceDiscovery;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -214,6 +235,7 @@ public class ServiceInstance {
 	 */
 	public ServiceInstance withServiceDiscovery(String serviceDiscovery) {
 		this.serviceDiscovery = serviceDiscovery;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -235,6 +257,7 @@ public class ServiceInstance {
 	 */
 	public void  setServiceType(String serviceType) {
 		this.serviceType = serviceType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -246,6 +269,7 @@ public class ServiceInstance {
 	 */
 	public ServiceInstance withServiceType(String serviceType) {
 		this.serviceType = serviceType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -275,6 +299,7 @@ public class ServiceInstance {
 	 */
 	public void  setScpDURL(String scpDURL) {
 		this.scpDURL = scpDURL;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -290,6 +315,7 @@ public class ServiceInstance {
 	 */
 	public ServiceInstance withScpDURL(String scpDURL) {
 		this.scpDURL = scpDURL;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -319,6 +345,7 @@ public class ServiceInstance {
 	 */
 	public void  setControlURL(String controlURL) {
 		this.controlURL = controlURL;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -334,6 +361,7 @@ public class ServiceInstance {
 	 */
 	public ServiceInstance withControlURL(String controlURL) {
 		this.controlURL = controlURL;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -363,6 +391,7 @@ public class ServiceInstance {
 	 */
 	public void  setEventSubURL(String eventSubURL) {
 		this.eventSubURL = eventSubURL;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -378,6 +407,7 @@ public class ServiceInstance {
 	 */
 	public ServiceInstance withEventSubURL(String eventSubURL) {
 		this.eventSubURL = eventSubURL;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object defines what UPnP capabilities this device has.
@@ -146,6 +147,11 @@ public class Capabilities {
 	@XmlElement(name = "UPnPDMSoftwareMgmt")
 	public Long upnPDMSoftwareMgmt;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -176,6 +182,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPArchitecture(Long upnPArchitecture) {
 		this.upnPArchitecture = upnPArchitecture;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -191,6 +198,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPArchitecture(Long upnPArchitecture) {
 		this.upnPArchitecture = upnPArchitecture;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -220,6 +228,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPArchitectureMinorVer(Long upnPArchitectureMinorVer) {
 		this.upnPArchitectureMinorVer = upnPArchitectureMinorVer;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -235,6 +244,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPArchitectureMinorVer(Long upnPArchitectureMinorVer) {
 		this.upnPArchitectureMinorVer = upnPArchitectureMinorVer;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +270,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPMediaServer(Long upnPMediaServer) {
 		this.upnPMediaServer = upnPMediaServer;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -273,6 +284,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPMediaServer(Long upnPMediaServer) {
 		this.upnPMediaServer = upnPMediaServer;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -298,6 +310,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPMediaRenderer(Long upnPMediaRenderer) {
 		this.upnPMediaRenderer = upnPMediaRenderer;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -311,6 +324,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPMediaRenderer(Long upnPMediaRenderer) {
 		this.upnPMediaRenderer = upnPMediaRenderer;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -336,6 +350,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPWLANAccessPoint(Long upnPWLANAccessPoint) {
 		this.upnPWLANAccessPoint = upnPWLANAccessPoint;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -349,6 +364,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPWLANAccessPoint(Long upnPWLANAccessPoint) {
 		this.upnPWLANAccessPoint = upnPWLANAccessPoint;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -374,6 +390,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPBasicDevice(Long upnPBasicDevice) {
 		this.upnPBasicDevice = upnPBasicDevice;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -387,6 +404,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPBasicDevice(Long upnPBasicDevice) {
 		this.upnPBasicDevice = upnPBasicDevice;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -412,6 +430,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPQoSDevice(Long upnPQoSDevice) {
 		this.upnPQoSDevice = upnPQoSDevice;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -425,6 +444,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPQoSDevice(Long upnPQoSDevice) {
 		this.upnPQoSDevice = upnPQoSDevice;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -450,6 +470,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPQoSPolicyHolder(Long upnPQoSPolicyHolder) {
 		this.upnPQoSPolicyHolder = upnPQoSPolicyHolder;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -463,6 +484,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPQoSPolicyHolder(Long upnPQoSPolicyHolder) {
 		this.upnPQoSPolicyHolder = upnPQoSPolicyHolder;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -488,6 +510,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPIGD(Long upnPIGD) {
 		this.upnPIGD = upnPIGD;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -501,6 +524,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPIGD(Long upnPIGD) {
 		this.upnPIGD = upnPIGD;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -526,6 +550,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPDMBasicMgmt(Long upnPDMBasicMgmt) {
 		this.upnPDMBasicMgmt = upnPDMBasicMgmt;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -539,6 +564,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPDMBasicMgmt(Long upnPDMBasicMgmt) {
 		this.upnPDMBasicMgmt = upnPDMBasicMgmt;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -564,6 +590,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPDMConfigurationMgmt(Long upnPDMConfigurationMgmt) {
 		this.upnPDMConfigurationMgmt = upnPDMConfigurationMgmt;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -577,6 +604,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPDMConfigurationMgmt(Long upnPDMConfigurationMgmt) {
 		this.upnPDMConfigurationMgmt = upnPDMConfigurationMgmt;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -602,6 +630,7 @@ public class Capabilities {
 	 */
 	public void  setUpnPDMSoftwareMgmt(Long upnPDMSoftwareMgmt) {
 		this.upnPDMSoftwareMgmt = upnPDMSoftwareMgmt;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -615,6 +644,7 @@ public class Capabilities {
 	 */
 	public Capabilities withUpnPDMSoftwareMgmt(Long upnPDMSoftwareMgmt) {
 		this.upnPDMSoftwareMgmt = upnPDMSoftwareMgmt;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.upnp.discovery;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * UPnP embedded device table. This table contains an entry for each UPnP embedded device that has been discovered via SSDP.
@@ -120,8 +125,19 @@ public class Device {
 	 * @since 2.6
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdate;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Device() {
 	}
 
@@ -148,6 +164,7 @@ public class Device {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -161,6 +178,7 @@ public class Device {
 	 */
 	public Device withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -190,6 +208,8 @@ public class Device {
 	 */
 	public void  setUuiD(String uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +225,8 @@ public class Device {
 	 */
 	public Device withUuiD(String uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -238,6 +260,7 @@ public class Device {
 	 */
 	public void  setUsn(String usn) {
 		this.usn = usn;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -255,6 +278,7 @@ public class Device {
 	 */
 	public Device withUsn(String usn) {
 		this.usn = usn;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -276,6 +300,7 @@ public class Device {
 	 */
 	public void  setLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -287,6 +312,7 @@ public class Device {
 	 */
 	public Device withLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -308,6 +334,7 @@ public class Device {
 	 */
 	public void  setLocation(String location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -319,6 +346,7 @@ public class Device {
 	 */
 	public Device withLocation(String location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -348,6 +376,7 @@ public class Device {
 	 */
 	public void  setServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -363,6 +392,7 @@ public class Device {
 	 */
 	public Device withServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -379,6 +409,19 @@ public class Device {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this UPnP embedded device.
+
+          As such entries are added to or removed from the Host tables, the value of this parameter MUST be updated accordingly.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this UPnP embedded device.
 
@@ -389,6 +432,7 @@ public class Device {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -402,6 +446,7 @@ public class Device {
 	 */
 	public Device withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -423,6 +468,7 @@ public class Device {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -434,6 +480,7 @@ public class Device {
 	 */
 	public Device withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
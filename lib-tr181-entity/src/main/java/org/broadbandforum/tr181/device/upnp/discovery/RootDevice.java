@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.upnp.discovery;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * UPnP root device table. This table contains an entry for each UPnP root device that has been discovered via SSDP.
@@ -122,8 +127,19 @@ public class RootDevice {
 	 * @since 2.6
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdate;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public RootDevice() {
 	}
 
@@ -150,6 +166,7 @@ public class RootDevice {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -163,6 +180,7 @@ public class RootDevice {
 	 */
 	public RootDevice withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -192,6 +210,8 @@ public class RootDevice {
 	 */
 	public void  setUuiD(String uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -207,6 +227,8 @@ public class RootDevice {
 	 */
 	public RootDevice withUuiD(String uuiD) {
 		this.uuiD = uuiD;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -244,6 +266,7 @@ public class RootDevice {
 	 */
 	public void  setUsn(String usn) {
 		this.usn = usn;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -263,6 +286,7 @@ public class RootDevice {
 	 */
 	public RootDevice withUsn(String usn) {
 		this.usn = usn;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -284,6 +308,7 @@ public class RootDevice {
 	 */
 	public void  setLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -295,6 +320,7 @@ public class RootDevice {
 	 */
 	public RootDevice withLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -316,6 +342,7 @@ public class RootDevice {
 	 */
 	public void  setLocation(String location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -327,6 +354,7 @@ public class RootDevice {
 	 */
 	public RootDevice withLocation(String location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -356,6 +384,7 @@ public class RootDevice {
 	 */
 	public void  setServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -371,6 +400,7 @@ public class RootDevice {
 	 */
 	public RootDevice withServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -387,6 +417,19 @@ public class RootDevice {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this UPnP root device.
+
+          As such entries are added to or removed from the Host tables, the value of this parameter MUST be updated accordingly.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this UPnP root device.
 
@@ -397,6 +440,7 @@ public class RootDevice {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -410,6 +454,7 @@ public class RootDevice {
 	 */
 	public RootDevice withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -431,6 +476,7 @@ public class RootDevice {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -442,6 +488,7 @@ public class RootDevice {
 	 */
 	public RootDevice withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.upnp.discovery;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +26,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * UPnP embedded service table. This table contains an entry for each UPnP embedded service that has been discovered via SSDP.
@@ -102,6 +107,7 @@ public class Service {
 	 * @since 2.6
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdate;
 	/**
 	 * {{reference|the {{object|#.RootDevice}} or {{object|#.Device}} table entries that embeds this {{object}}}} This parameter is populated by extracting the "device-UUID" from the service's USN and matching the value against the root device or embedded device UUID value.
@@ -112,6 +118,16 @@ public class Service {
 	@Size(max = 256)
 	public String parentDevice;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Service() {
 	}
 
@@ -138,6 +154,7 @@ public class Service {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -151,6 +168,7 @@ public class Service {
 	 */
 	public Service withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -176,6 +194,8 @@ public class Service {
 	 */
 	public void  setUsn(String usn) {
 		this.usn = usn;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -189,6 +209,8 @@ public class Service {
 	 */
 	public Service withUsn(String usn) {
 		this.usn = usn;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -210,6 +232,7 @@ public class Service {
 	 */
 	public void  setLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -221,6 +244,7 @@ public class Service {
 	 */
 	public Service withLeaseTime(Long leaseTime) {
 		this.leaseTime = leaseTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -242,6 +266,7 @@ public class Service {
 	 */
 	public void  setLocation(String location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -253,6 +278,7 @@ public class Service {
 	 */
 	public Service withLocation(String location) {
 		this.location = location;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +308,7 @@ public class Service {
 	 */
 	public void  setServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -297,6 +324,7 @@ public class Service {
 	 */
 	public Service withServer(String server) {
 		this.server = server;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -313,6 +341,19 @@ public class Service {
 		return host;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this UPnP embedded service.
+
+          As such entries are added to or removed from the Host tables, the value of this parameter MUST be updated accordingly.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHost() {
+		return host == null ? Collections.emptyList() : host;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the full path names of all Host table entries, whether active or inactive, that correspond to this UPnP embedded service.
 
@@ -323,6 +364,7 @@ public class Service {
 	 */
 	public void  setHost(Collection<String> host) {
 		this.host = host;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -336,6 +378,7 @@ public class Service {
 	 */
 	public Service withHost(String string) {
 		getHost().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -357,6 +400,7 @@ public class Service {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -368,6 +412,7 @@ public class Service {
 	 */
 	public Service withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -389,6 +434,7 @@ public class Service {
 	 */
 	public void  setParentDevice(String parentDevice) {
 		this.parentDevice = parentDevice;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -400,6 +446,7 @@ public class Service {
 	 */
 	public Service withParentDevice(String parentDevice) {
 		this.parentDevice = parentDevice;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * USB Port table. This table models master and slave USB physical ports on the device.
@@ -93,6 +95,16 @@ public class Port {
 	@XmlElement(name = "Power")
 	public String power;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Port() {
 	}
 
@@ -115,6 +127,8 @@ public class Port {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -126,6 +140,8 @@ public class Port {
 	 */
 	public Port withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -147,6 +163,8 @@ public class Port {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -158,6 +176,8 @@ public class Port {
 	 */
 	public Port withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -179,6 +199,7 @@ public class Port {
 	 */
 	public void  setStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +211,7 @@ public class Port {
 	 */
 	public Port withStandard(String standard) {
 		this.standard = standard;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -211,6 +233,7 @@ public class Port {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -222,6 +245,7 @@ public class Port {
 	 */
 	public Port withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -243,6 +267,7 @@ public class Port {
 	 */
 	public void  setReceptacle(String receptacle) {
 		this.receptacle = receptacle;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -254,6 +279,7 @@ public class Port {
 	 */
 	public Port withReceptacle(String receptacle) {
 		this.receptacle = receptacle;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -275,6 +301,7 @@ public class Port {
 	 */
 	public void  setRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -286,6 +313,7 @@ public class Port {
 	 */
 	public Port withRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -311,6 +339,7 @@ public class Port {
 	 */
 	public void  setPower(String power) {
 		this.power = power;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -324,6 +353,7 @@ public class Port {
 	 */
 	public Port withPower(String power) {
 		this.power = power;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.usb;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.usb.usbhosts.Host;
 
 	/**
@@ -56,10 +57,20 @@ public class USBHosts {
 	 * @return the value
 	 */
 	public Collection<Host> getHosts() {
-		if (this.hosts == null){ this.hosts=new ArrayList<>();}
+		if (!(this.hosts instanceof InstanceTable)){ this.hosts=InstanceTable.of(this.hosts);}
 		return hosts;
 	}
 
+	/**
+	 * Read the table of CPE USB Host controllers.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Host> viewHosts() {
+		return hosts == null ? Collections.emptyList() : hosts;
+	}
+
 	/**
 	 * Set the table of CPE USB Host controllers.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.usb.usbhosts;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.usb.usbhosts.host.Device;
 
 	/**
@@ -108,6 +110,16 @@ public class Host {
 	@XmlElement(name = "Device")
 	public Collection<Device> devices;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Host() {
 	}
 
@@ -130,6 +142,8 @@ public class Host {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -141,6 +155,8 @@ public class Host {
 	 */
 	public Host withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -162,6 +178,7 @@ public class Host {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -173,6 +190,7 @@ public class Host {
 	 */
 	public Host withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -194,6 +212,8 @@ public class Host {
 	 */
 	public void  setName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +225,8 @@ public class Host {
 	 */
 	public Host withName(String name) {
 		this.name = name;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -226,6 +248,7 @@ public class Host {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -237,6 +260,7 @@ public class Host {
 	 */
 	public Host withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -262,6 +286,7 @@ public class Host {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -275,6 +300,7 @@ public class Host {
 	 */
 	public Host withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -300,6 +326,7 @@ public class Host {
 	 */
 	public void  setPowerManagementEnable(Boolean powerManagementEnable) {
 		this.powerManagementEnable = powerManagementEnable;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -313,6 +340,7 @@ public class Host {
 	 */
 	public Host withPowerManagementEnable(Boolean powerManagementEnable) {
 		this.powerManagementEnable = powerManagementEnable;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -334,6 +362,7 @@ public class Host {
 	 */
 	public void  setUsbVersion(String usbVersion) {
 		this.usbVersion = usbVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -345,6 +374,7 @@ public class Host {
 	 */
 	public Host withUsbVersion(String usbVersion) {
 		this.usbVersion = usbVersion;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -354,10 +384,20 @@ public class Host {
 	 * @return the value
 	 */
 	public Collection<Device> getDevices() {
-		if (this.devices == null){ this.devices=new ArrayList<>();}
+		if (!(this.devices instanceof InstanceTable)){ this.devices=InstanceTable.of(this.devices);}
 		return devices;
 	}
 
+	/**
+	 * Read the table of connected USB devices.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Device> viewDevices() {
+		return devices == null ? Collections.emptyList() : devices;
+	}
+
 	/**
 	 * Set the table of connected USB devices.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.usb.usbhosts.host;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.usb.usbhosts.host.device.Configuration;
 
 	/**
@@ -192,6 +194,16 @@ public class Device {
 	@XmlElement(name = "Configuration")
 	public Collection<Configuration> configurations;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Device() {
 	}
 
@@ -214,6 +226,8 @@ public class Device {
 	 */
 	public void  setDeviceNumber(Long deviceNumber) {
 		this.deviceNumber = deviceNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -225,6 +239,8 @@ public class Device {
 	 */
 	public Device withDeviceNumber(Long deviceNumber) {
 		this.deviceNumber = deviceNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -246,6 +262,7 @@ public class Device {
 	 */
 	public void  setUsbVersion(String usbVersion) {
 		this.usbVersion = usbVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -257,6 +274,7 @@ public class Device {
 	 */
 	public Device withUsbVersion(String usbVersion) {
 		this.usbVersion = usbVersion;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -282,6 +300,7 @@ public class Device {
 	 */
 	public void  setDeviceClass(byte[] deviceClass) {
 		this.deviceClass = deviceClass;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -295,6 +314,7 @@ public class Device {
 	 */
 	public Device withDeviceClass(byte[] deviceClass) {
 		this.deviceClass = deviceClass;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -316,6 +336,7 @@ public class Device {
 	 */
 	public void  setDeviceSubClass(byte[] deviceSubClass) {
 		this.deviceSubClass = deviceSubClass;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -327,6 +348,7 @@ public class Device {
 	 */
 	public Device withDeviceSubClass(byte[] deviceSubClass) {
 		this.deviceSubClass = deviceSubClass;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -348,6 +370,7 @@ public class Device {
 	 */
 	public void  setDeviceVersion(Long deviceVersion) {
 		this.deviceVersion = deviceVersion;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -359,6 +382,7 @@ public class Device {
 	 */
 	public Device withDeviceVersion(Long deviceVersion) {
 		this.deviceVersion = deviceVersion;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -380,6 +404,7 @@ public class Device {
 	 */
 	public void  setDeviceProtocol(byte[] deviceProtocol) {
 		this.deviceProtocol = deviceProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -391,6 +416,7 @@ public class Device {
 	 */
 	public Device withDeviceProtocol(byte[] deviceProtocol) {
 		this.deviceProtocol = deviceProtocol;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -412,6 +438,7 @@ public class Device {
 	 */
 	public void  setProductID(Long productID) {
 		this.productID = productID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -423,6 +450,7 @@ public class Device {
 	 */
 	public Device withProductID(Long productID) {
 		this.productID = productID;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -444,6 +472,7 @@ public class Device {
 	 */
 	public void  setVendorID(Long vendorID) {
 		this.vendorID = vendorID;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -455,6 +484,7 @@ public class Device {
 	 */
 	public Device withVendorID(Long vendorID) {
 		this.vendorID = vendorID;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -476,6 +506,7 @@ public class Device {
 	 */
 	public void  setManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -487,6 +518,7 @@ public class Device {
 	 */
 	public Device withManufacturer(String manufacturer) {
 		this.manufacturer = manufacturer;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -508,6 +540,7 @@ public class Device {
 	 */
 	public void  setProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -519,6 +552,7 @@ public class Device {
 	 */
 	public Device withProductClass(String productClass) {
 		this.productClass = productClass;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -540,6 +574,7 @@ public class Device {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -551,6 +586,7 @@ public class Device {
 	 */
 	public Device withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -576,6 +612,7 @@ public class Device {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -589,6 +626,7 @@ public class Device {
 	 */
 	public Device withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -610,6 +648,7 @@ public class Device {
 	 */
 	public void  setUsbPort(String usbPort) {
 		this.usbPort = usbPort;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -621,6 +660,7 @@ public class Device {
 	 */
 	public Device withUsbPort(String usbPort) {
 		this.usbPort = usbPort;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -646,6 +686,7 @@ public class Device {
 	 */
 	public void  setRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -659,6 +700,7 @@ public class Device {
 	 */
 	public Device withRate(String rate) {
 		this.rate = rate;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -684,6 +726,7 @@ public class Device {
 	 */
 	public void  setParent(String parent) {
 		this.parent = parent;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -697,6 +740,7 @@ public class Device {
 	 */
 	public Device withParent(String parent) {
 		this.parent = parent;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -718,6 +762,7 @@ public class Device {
 	 */
 	public void  setMaxChildren(Long maxChildren) {
 		this.maxChildren = maxChildren;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -729,6 +774,7 @@ public class Device {
 	 */
 	public Device withMaxChildren(Long maxChildren) {
 		this.maxChildren = maxChildren;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -754,6 +800,7 @@ public class Device {
 	 */
 	public void  setIssuspended(Boolean issuspended) {
 		this.issuspended = issuspended;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -767,6 +814,7 @@ public class Device {
 	 */
 	public Device withIssuspended(Boolean issuspended) {
 		this.issuspended = issuspended;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -792,6 +840,7 @@ public class Device {
 	 */
 	public void  setIsselfPowered(Boolean isselfPowered) {
 		this.isselfPowered = isselfPowered;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -805,6 +854,7 @@ public class Device {
 	 */
 	public Device withIsselfPowered(Boolean isselfPowered) {
 		this.isselfPowered = isselfPowered;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -814,10 +864,20 @@ public class Device {
 	 * @return the value
 	 */
 	public Collection<Configuration> getConfigurations() {
-		if (this.configurations == null){ this.configurations=new ArrayList<>();}
+		if (!(this.configurations instanceof InstanceTable)){ this.configurations=InstanceTable.of(this.configurations);}
 		return configurations;
 	}
 
+	/**
+	 * Read the table of device configurations.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Configuration> viewConfigurations() {
+		return configurations == null ? Collections.emptyList() : configurations;
+	}
+
 	/**
 	 * Set the table of device configurations.
 	 *
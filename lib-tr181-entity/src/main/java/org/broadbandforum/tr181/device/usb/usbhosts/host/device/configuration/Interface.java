@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table of device interface descriptors.
@@ -67,6 +69,16 @@ public class Interface {
 	@XmlElement(name = "InterfaceProtocol")
 	public byte[] interfaceProtocol;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Interface() {
 	}
 
@@ -89,6 +101,8 @@ public class Interface {
 	 */
 	public void  setInterfaceNumber(Long interfaceNumber) {
 		this.interfaceNumber = interfaceNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -100,6 +114,8 @@ public class Interface {
 	 */
 	public Interface withInterfaceNumber(Long interfaceNumber) {
 		this.interfaceNumber = interfaceNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -125,6 +141,7 @@ public class Interface {
 	 */
 	public void  setInterfaceClass(byte[] interfaceClass) {
 		this.interfaceClass = interfaceClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -138,6 +155,7 @@ public class Interface {
 	 */
 	public Interface withInterfaceClass(byte[] interfaceClass) {
 		this.interfaceClass = interfaceClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -159,6 +177,7 @@ public class Interface {
 	 */
 	public void  setInterfaceSubClass(byte[] interfaceSubClass) {
 		this.interfaceSubClass = interfaceSubClass;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -170,6 +189,7 @@ public class Interface {
 	 */
 	public Interface withInterfaceSubClass(byte[] interfaceSubClass) {
 		this.interfaceSubClass = interfaceSubClass;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -191,6 +211,7 @@ public class Interface {
 	 */
 	public void  setInterfaceProtocol(byte[] interfaceProtocol) {
 		this.interfaceProtocol = interfaceProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -202,6 +223,7 @@ public class Interface {
 	 */
 	public Interface withInterfaceProtocol(byte[] interfaceProtocol) {
 		this.interfaceProtocol = interfaceProtocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object describes how to remotely manage the initial positioning of a user interface on a device's local display.
@@ -97,6 +98,11 @@ public class LocalDisplay {
 	@XmlElement(name = "DisplayHeight")
 	public Long displayHeight;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LocalDisplay() {
 	}
 
@@ -119,6 +125,7 @@ public class LocalDisplay {
 	 */
 	public void  setMovable(Boolean movable) {
 		this.movable = movable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -130,6 +137,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withMovable(Boolean movable) {
 		this.movable = movable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -151,6 +159,7 @@ public class LocalDisplay {
 	 */
 	public void  setResizable(Boolean resizable) {
 		this.resizable = resizable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -162,6 +171,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withResizable(Boolean resizable) {
 		this.resizable = resizable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -183,6 +193,7 @@ public class LocalDisplay {
 	 */
 	public void  setPosX(Integer posX) {
 		this.posX = posX;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -194,6 +205,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withPosX(Integer posX) {
 		this.posX = posX;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -215,6 +227,7 @@ public class LocalDisplay {
 	 */
 	public void  setPosY(Integer posY) {
 		this.posY = posY;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -226,6 +239,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withPosY(Integer posY) {
 		this.posY = posY;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -247,6 +261,7 @@ public class LocalDisplay {
 	 */
 	public void  setWidth(Long width) {
 		this.width = width;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -258,6 +273,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withWidth(Long width) {
 		this.width = width;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -279,6 +295,7 @@ public class LocalDisplay {
 	 */
 	public void  setHeight(Long height) {
 		this.height = height;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -290,6 +307,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withHeight(Long height) {
 		this.height = height;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -311,6 +329,7 @@ public class LocalDisplay {
 	 */
 	public void  setDisplayWidth(Long displayWidth) {
 		this.displayWidth = displayWidth;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -322,6 +341,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withDisplayWidth(Long displayWidth) {
 		this.displayWidth = displayWidth;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -343,6 +363,7 @@ public class LocalDisplay {
 	 */
 	public void  setDisplayHeight(Long displayHeight) {
 		this.displayHeight = displayHeight;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -354,6 +375,7 @@ public class LocalDisplay {
 	 */
 	public LocalDisplay withDisplayHeight(Long displayHeight) {
 		this.displayHeight = displayHeight;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.userinterface;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to remotely accessing the CPE's user interface.
@@ -76,6 +78,11 @@ public class RemoteAccess {
 	@CWMPParameter(access = "readWrite")
 	public String protocol;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RemoteAccess() {
 	}
 
@@ -98,6 +105,7 @@ public class RemoteAccess {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -109,6 +117,7 @@ public class RemoteAccess {
 	 */
 	public RemoteAccess withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -130,6 +139,7 @@ public class RemoteAccess {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -141,6 +151,7 @@ public class RemoteAccess {
 	 */
 	public RemoteAccess withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -155,6 +166,17 @@ public class RemoteAccess {
 		return supportedProtocols;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the protocols that are supported by the CPE for the purpose of remotely accessing the user interface.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedProtocols() {
+		return supportedProtocols == null ? Collections.emptyList() : supportedProtocols;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the protocols that are supported by the CPE for the purpose of remotely accessing the user interface.
 	 *
@@ -163,6 +185,7 @@ public class RemoteAccess {
 	 */
 	public void  setSupportedProtocols(Collection<String> supportedProtocols) {
 		this.supportedProtocols = supportedProtocols;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -174,6 +197,7 @@ public class RemoteAccess {
 	 */
 	public RemoteAccess withSupportedProtocols(String string) {
 		getSupportedProtocols().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -195,6 +219,7 @@ public class RemoteAccess {
 	 */
 	public void  setProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -206,6 +231,7 @@ public class RemoteAccess {
 	 */
 	public RemoteAccess withProtocol(String protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
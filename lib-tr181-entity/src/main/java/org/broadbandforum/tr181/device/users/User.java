@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to the user characteristics.
@@ -94,6 +96,16 @@ public class User {
 	@Size(max = 16)
 	public String language;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public User() {
 	}
 
@@ -116,6 +128,8 @@ public class User {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -127,6 +141,8 @@ public class User {
 	 */
 	public User withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -152,6 +168,7 @@ public class User {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -165,6 +182,7 @@ public class User {
 	 */
 	public User withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -186,6 +204,7 @@ public class User {
 	 */
 	public void  setRemoteAccessCapable(Boolean remoteAccessCapable) {
 		this.remoteAccessCapable = remoteAccessCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -197,6 +216,7 @@ public class User {
 	 */
 	public User withRemoteAccessCapable(Boolean remoteAccessCapable) {
 		this.remoteAccessCapable = remoteAccessCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -218,6 +238,8 @@ public class User {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -229,6 +251,8 @@ public class User {
 	 */
 	public User withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -250,6 +274,7 @@ public class User {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -261,6 +286,7 @@ public class User {
 	 */
 	public User withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -286,6 +312,7 @@ public class User {
 	 */
 	public void  setLanguage(String language) {
 		this.language = language;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -299,6 +326,7 @@ public class User {
 	 */
 	public User withLanguage(String language) {
 		this.language = language;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
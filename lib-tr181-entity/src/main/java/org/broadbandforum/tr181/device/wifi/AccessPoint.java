@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.wifi;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.wifi.accesspoint.AC;
 import org.broadbandforum.tr181.device.wifi.accesspoint.Accounting;
@@ -213,6 +215,16 @@ public class AccessPoint {
 	@CWMPParameter(minEntries = 4, maxEntries = 4)
 	public Collection<AC> acs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AccessPoint() {
 	}
 
@@ -235,6 +247,7 @@ public class AccessPoint {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -246,6 +259,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -275,6 +289,7 @@ public class AccessPoint {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -290,6 +305,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -311,6 +327,8 @@ public class AccessPoint {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -322,6 +340,8 @@ public class AccessPoint {
 	 */
 	public AccessPoint withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -343,6 +363,8 @@ public class AccessPoint {
 	 */
 	public void  setSsiDReference(String ssiDReference) {
 		this.ssiDReference = ssiDReference;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -354,6 +376,8 @@ public class AccessPoint {
 	 */
 	public AccessPoint withSsiDReference(String ssiDReference) {
 		this.ssiDReference = ssiDReference;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -375,6 +399,7 @@ public class AccessPoint {
 	 */
 	public void  setSsiDAdvertisementEnabled(Boolean ssiDAdvertisementEnabled) {
 		this.ssiDAdvertisementEnabled = ssiDAdvertisementEnabled;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -386,6 +411,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withSsiDAdvertisementEnabled(Boolean ssiDAdvertisementEnabled) {
 		this.ssiDAdvertisementEnabled = ssiDAdvertisementEnabled;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -411,6 +437,7 @@ public class AccessPoint {
 	 */
 	public void  setRetryLimit(Long retryLimit) {
 		this.retryLimit = retryLimit;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -424,6 +451,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withRetryLimit(Long retryLimit) {
 		this.retryLimit = retryLimit;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -445,6 +473,7 @@ public class AccessPoint {
 	 */
 	public void  setWmmCapability(Boolean wmmCapability) {
 		this.wmmCapability = wmmCapability;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -456,6 +485,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withWmmCapability(Boolean wmmCapability) {
 		this.wmmCapability = wmmCapability;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -481,6 +511,7 @@ public class AccessPoint {
 	 */
 	public void  setUapSDCapability(Boolean uapSDCapability) {
 		this.uapSDCapability = uapSDCapability;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -494,6 +525,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withUapSDCapability(Boolean uapSDCapability) {
 		this.uapSDCapability = uapSDCapability;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -515,6 +547,7 @@ public class AccessPoint {
 	 */
 	public void  setWmmEnable(Boolean wmmEnable) {
 		this.wmmEnable = wmmEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -526,6 +559,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withWmmEnable(Boolean wmmEnable) {
 		this.wmmEnable = wmmEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -551,6 +585,7 @@ public class AccessPoint {
 	 */
 	public void  setUapSDEnable(Boolean uapSDEnable) {
 		this.uapSDEnable = uapSDEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -564,6 +599,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withUapSDEnable(Boolean uapSDEnable) {
 		this.uapSDEnable = uapSDEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -589,6 +625,7 @@ public class AccessPoint {
 	 */
 	public void  setMaxAssociatedDevices(Long maxAssociatedDevices) {
 		this.maxAssociatedDevices = maxAssociatedDevices;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -602,6 +639,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withMaxAssociatedDevices(Long maxAssociatedDevices) {
 		this.maxAssociatedDevices = maxAssociatedDevices;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -627,6 +665,7 @@ public class AccessPoint {
 	 */
 	public void  setIsolationEnable(Boolean isolationEnable) {
 		this.isolationEnable = isolationEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -640,6 +679,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withIsolationEnable(Boolean isolationEnable) {
 		this.isolationEnable = isolationEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -661,6 +701,7 @@ public class AccessPoint {
 	 */
 	public void  setMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -672,6 +713,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withMacAddressControlEnabled(Boolean macAddressControlEnabled) {
 		this.macAddressControlEnabled = macAddressControlEnabled;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -693,6 +735,7 @@ public class AccessPoint {
 	 */
 	public void  setAllowedMACAddress(MACAddress allowedMACAddress) {
 		this.allowedMACAddress = allowedMACAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -704,6 +747,7 @@ public class AccessPoint {
 	 */
 	public AccessPoint withAllowedMACAddress(MACAddress allowedMACAddress) {
 		this.allowedMACAddress = allowedMACAddress;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -800,10 +844,20 @@ public class AccessPoint {
 	 * @return the value
 	 */
 	public Collection<AssociatedDevice> getAssociatedDevices() {
-		if (this.associatedDevices == null){ this.associatedDevices=new ArrayList<>();}
+		if (!(this.associatedDevices instanceof InstanceTable)){ this.associatedDevices=InstanceTable.of(this.associatedDevices);}
 		return associatedDevices;
 	}
 
+	/**
+	 * Get a table of the devices currently associated with the access point.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AssociatedDevice> viewAssociatedDevices() {
+		return associatedDevices == null ? Collections.emptyList() : associatedDevices;
+	}
+
 	/**
 	 * Set a table of the devices currently associated with the access point.
 	 *
@@ -838,10 +892,28 @@ public class AccessPoint {
 	 * @return the value
 	 */
 	public Collection<AC> getAcs() {
-		if (this.acs == null){ this.acs=new ArrayList<>();}
+		if (!(this.acs instanceof InstanceTable)){ this.acs=InstanceTable.of(this.acs);}
 		return acs;
 	}
 
+	/**
+	 * Read the this object contains parameters related to WiFi QoS for different 802.11e access categories (priorities). Access categories are: BE, BK, VI, and VO. These parameters can help control and monitor 802.11e Enhanced distributed channel access (EDCA). The size of this table is fixed, with four entries which are identified by the {{param|AccessCategory}} parameter as follows: 
+
+        * BE (Best Effort) 
+
+        * BK (Background)
+
+        * VI (Video)
+
+        * VO (Voice)
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AC> viewAcs() {
+		return acs == null ? Collections.emptyList() : acs;
+	}
+
 	/**
 	 * Set the this object contains parameters related to WiFi QoS for different 802.11e access categories (priorities). Access categories are: BE, BK, VI, and VO. These parameters can help control and monitor 802.11e Enhanced distributed channel access (EDCA). The size of this table is fixed, with four entries which are identified by the {{param|AccessCategory}} parameter as follows: 
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.wifi;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.wifi.endpoint.AC;
 import org.broadbandforum.tr181.device.wifi.endpoint.Profile;
 import org.broadbandforum.tr181.device.wifi.endpoint.Security;
@@ -132,6 +134,16 @@ public class EndPoint {
 	@CWMPParameter(minEntries = 4, maxEntries = 4)
 	public Collection<AC> acs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public EndPoint() {
 	}
 
@@ -154,6 +166,7 @@ public class EndPoint {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +178,7 @@ public class EndPoint {
 	 */
 	public EndPoint withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -194,6 +208,7 @@ public class EndPoint {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -209,6 +224,7 @@ public class EndPoint {
 	 */
 	public EndPoint withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -230,6 +246,8 @@ public class EndPoint {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -241,6 +259,8 @@ public class EndPoint {
 	 */
 	public EndPoint withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -262,6 +282,7 @@ public class EndPoint {
 	 */
 	public void  setProfileReference(String profileReference) {
 		this.profileReference = profileReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -273,6 +294,7 @@ public class EndPoint {
 	 */
 	public EndPoint withProfileReference(String profileReference) {
 		this.profileReference = profileReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -294,6 +316,8 @@ public class EndPoint {
 	 */
 	public void  setSsiDReference(String ssiDReference) {
 		this.ssiDReference = ssiDReference;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -305,6 +329,8 @@ public class EndPoint {
 	 */
 	public EndPoint withSsiDReference(String ssiDReference) {
 		this.ssiDReference = ssiDReference;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -372,10 +398,20 @@ public class EndPoint {
 	 * @return the value
 	 */
 	public Collection<Profile> getProfiles() {
-		if (this.profiles == null){ this.profiles=new ArrayList<>();}
+		if (!(this.profiles instanceof InstanceTable)){ this.profiles=InstanceTable.of(this.profiles);}
 		return profiles;
 	}
 
+	/**
+	 * Read the endPoint Profile table.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Profile> viewProfiles() {
+		return profiles == null ? Collections.emptyList() : profiles;
+	}
+
 	/**
 	 * Set the endPoint Profile table.
 	 *
@@ -439,10 +475,28 @@ public class EndPoint {
 	 * @return the value
 	 */
 	public Collection<AC> getAcs() {
-		if (this.acs == null){ this.acs=new ArrayList<>();}
+		if (!(this.acs instanceof InstanceTable)){ this.acs=InstanceTable.of(this.acs);}
 		return acs;
 	}
 
+	/**
+	 * Read the this object contains parameters related to WiFi QoS for different 802.11e access categories (priorities). Access categories are: BE, BK, VI, and VO. These parameters can help control and monitor 802.11e Enhanced distributed channel access (EDCA). The size of this table is fixed, with four entries which are identified by the {{param|AccessCategory}} parameter as follows: 
+
+        * BE (Best Effort) 
+
+        * BK (Background)
+
+        * VI (Video)
+
+        * VO (Voice)
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AC> viewAcs() {
+		return acs == null ? Collections.emptyList() : acs;
+	}
+
 	/**
 	 * Set the this object contains parameters related to WiFi QoS for different 802.11e access categories (priorities). Access categories are: BE, BK, VI, and VO. These parameters can help control and monitor 802.11e Enhanced distributed channel access (EDCA). The size of this table is fixed, with four entries which are identified by the {{param|AccessCategory}} parameter as follows: 
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.wifi;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.common.DiagnosticsState;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.wifi.neighboringwifidiagnostic.Result;
 
 	/**
@@ -54,6 +56,11 @@ public class NeighboringWiFiDiagnostic {
 	@XmlElement(name = "Result")
 	public Collection<Result> results;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NeighboringWiFiDiagnostic() {
 	}
 
@@ -76,6 +83,7 @@ public class NeighboringWiFiDiagnostic {
 	 */
 	public void  setDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +95,7 @@ public class NeighboringWiFiDiagnostic {
 	 */
 	public NeighboringWiFiDiagnostic withDiagnosticsState(DiagnosticsState diagnosticsState) {
 		this.diagnosticsState = diagnosticsState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -96,10 +105,20 @@ public class NeighboringWiFiDiagnostic {
 	 * @return the value
 	 */
 	public Collection<Result> getResults() {
-		if (this.results == null){ this.results=new ArrayList<>();}
+		if (!(this.results instanceof InstanceTable)){ this.results=InstanceTable.of(this.results);}
 		return results;
 	}
 
+	/**
+	 * Read the neighboring SSID table. This table models the other WiFi SSIDs that this device is able to receive.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Result> viewResults() {
+		return results == null ? Collections.emptyList() : results;
+	}
+
 	/**
 	 * Set the neighboring SSID table. This table models the other WiFi SSIDs that this device is able to receive.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.wifi;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.*;
@@ -24,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.wifi.radio.Stats;
 
 /**
@@ -593,6 +596,16 @@ public class Radio {
   @XmlElement(name = "Stats")
   public Stats stats;
 
+  /**
+   * The changed parameters, null unless the object is tracked.
+   */
+  transient DirtyBits dirty;
+
+  /**
+   * The table indexing this row by its unique keys, null unless indexed.
+   */
+  transient InstanceTable<?> table;
+
   public Radio() {
   }
 
@@ -619,6 +632,9 @@ public class Radio {
    */
   public void setEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
   }
 
   /**
@@ -632,6 +648,9 @@ public class Radio {
    */
   public Radio withEnable(Boolean enable) {
     this.enable = enable;
+    if (this.dirty != null) {
+      this.dirty.set(0);
+    }
     return this;
   }
 
@@ -695,6 +714,9 @@ public class Radio {
    */
   public void setStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
   }
 
   /**
@@ -727,6 +749,9 @@ public class Radio {
    */
   public Radio withStatus(String status) {
     this.status = status;
+    if (this.dirty != null) {
+      this.dirty.set(1);
+    }
     return this;
   }
 
@@ -748,6 +773,12 @@ public class Radio {
    */
   public void setAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -759,6 +790,12 @@ public class Radio {
    */
   public Radio withAlias(Alias alias) {
     this.alias = alias;
+    if (this.dirty != null) {
+      this.dirty.set(2);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -780,6 +817,12 @@ public class Radio {
    */
   public void setName(String name) {
     this.name = name;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
   }
 
   /**
@@ -791,6 +834,12 @@ public class Radio {
    */
   public Radio withName(String name) {
     this.name = name;
+    if (this.dirty != null) {
+      this.dirty.set(3);
+    }
+    if (this.table != null) {
+      this.table.reindex(this);
+    }
     return this;
   }
 
@@ -814,6 +863,9 @@ public class Radio {
    */
   public void setLastChange(Long lastChange) {
     this.lastChange = lastChange;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
   }
 
   /**
@@ -826,6 +878,9 @@ public class Radio {
    */
   public Radio withLastChange(Long lastChange) {
     this.lastChange = lastChange;
+    if (this.dirty != null) {
+      this.dirty.set(4);
+    }
     return this;
   }
 
@@ -847,6 +902,22 @@ public class Radio {
     return lowerLayers;
   }
 
+  /**
+   * Read the {{list}} {{reference|an interface object that is stacked
+   * immediately below this interface object}} See {{bibref|TR-181i2|Section
+   * 4.2.1}}.
+   * <p>
+   * Note: Since {{object}} is a layer 1 interface, it is expected that
+   * {{param}} will not be used.
+   *
+   * @since 2.0
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewLowerLayers() {
+    return lowerLayers == null ? Collections.emptyList() : lowerLayers;
+  }
+
   /**
    * Set the {{list}} {{reference|an interface object that is stacked
    * immediately below this interface object}} See {{bibref|TR-181i2|Section
@@ -860,6 +931,9 @@ public class Radio {
    */
   public void setLowerLayers(Collection<String> lowerLayers) {
     this.lowerLayers = lowerLayers;
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
   }
 
   /**
@@ -876,6 +950,9 @@ public class Radio {
    */
   public Radio withLowerLayers(String string) {
     getLowerLayers().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(5);
+    }
     return this;
   }
 
@@ -921,6 +998,9 @@ public class Radio {
    */
   public void setUpstream(Boolean upstream) {
     this.upstream = upstream;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
   }
 
   /**
@@ -944,6 +1024,9 @@ public class Radio {
    */
   public Radio withUpstream(Boolean upstream) {
     this.upstream = upstream;
+    if (this.dirty != null) {
+      this.dirty.set(6);
+    }
     return this;
   }
 
@@ -967,6 +1050,9 @@ public class Radio {
    */
   public void setMaxBitRate(Long maxBitRate) {
     this.maxBitRate = maxBitRate;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
   }
 
   /**
@@ -979,6 +1065,9 @@ public class Radio {
    */
   public Radio withMaxBitRate(Long maxBitRate) {
     this.maxBitRate = maxBitRate;
+    if (this.dirty != null) {
+      this.dirty.set(7);
+    }
     return this;
   }
 
@@ -996,6 +1085,18 @@ public class Radio {
     return supportedFrequencyBands;
   }
 
+  /**
+   * Read the {{list}} List items indicate the frequency bands at which the radio
+   * can operate.
+   *
+   * @since 2.0
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewSupportedFrequencyBands() {
+    return supportedFrequencyBands == null ? Collections.emptyList() : supportedFrequencyBands;
+  }
+
   /**
    * Set the {{list}} List items indicate the frequency bands at which the radio
    * can operate.
@@ -1005,6 +1106,9 @@ public class Radio {
    */
   public void setSupportedFrequencyBands(Collection<String> supportedFrequencyBands) {
     this.supportedFrequencyBands = supportedFrequencyBands;
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
   }
 
   /**
@@ -1017,6 +1121,9 @@ public class Radio {
    */
   public Radio withSupportedFrequencyBands(String string) {
     getSupportedFrequencyBands().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(8);
+    }
     return this;
   }
 
@@ -1048,6 +1155,9 @@ public class Radio {
    */
   public void setOperatingFrequencyBand(String operatingFrequencyBand) {
     this.operatingFrequencyBand = operatingFrequencyBand;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
   }
 
   /**
@@ -1064,6 +1174,9 @@ public class Radio {
    */
   public Radio withOperatingFrequencyBand(String operatingFrequencyBand) {
     this.operatingFrequencyBand = operatingFrequencyBand;
+    if (this.dirty != null) {
+      this.dirty.set(9);
+    }
     return this;
   }
 
@@ -1094,6 +1207,31 @@ public class Radio {
     return supportedStandards;
   }
 
+  /**
+   * Read the {{list}} List items indicate which IEEE 802.11 standards this
+   * {{object}} instance can support simultaneously, in the frequency band
+   * specified by {{param|OperatingFrequencyBand}}.
+   * <p>
+   * Enumerated value must be one of [a, b, g, n, ac]
+   * <p>
+   * Each value indicates support for the indicated standard.
+   * <p>
+   * If {{param|OperatingFrequencyBand}} is set to
+   * {{enum|2.4GHz|OperatingFrequencyBand}}, only values {{enum|b}}, {{enum|g}},
+   * {{enum|n}} are allowed.
+   * <p>
+   * If {{param|OperatingFrequencyBand}} is set to
+   * {{enum|5GHz|OperatingFrequencyBand}}, only values {{enum|a}}, {{enum|n}},
+   * {{enum|ac}} are allowed.
+   *
+   * @since 2.0
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewSupportedStandards() {
+    return supportedStandards == null ? Collections.emptyList() : supportedStandards;
+  }
+
   /**
    * Set the {{list}} List items indicate which IEEE 802.11 standards this
    * {{object}} instance can support simultaneously, in the frequency band
@@ -1116,6 +1254,9 @@ public class Radio {
    */
   public void setSupportedStandards(Collection<String> supportedStandards) {
     this.supportedStandards = supportedStandards;
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
   }
 
   /**
@@ -1141,6 +1282,9 @@ public class Radio {
    */
   public Radio withSupportedStandards(String string) {
     getSupportedStandards().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(10);
+    }
     return this;
   }
 
@@ -1173,6 +1317,33 @@ public class Radio {
     return operatingStandards;
   }
 
+  /**
+   * Read the {{list}} List items indicate which IEEE 802.11 standard this
+   * {{object}} instance is configured for.
+   * <p>
+   * Each value indicates support for the indicated standard.
+   * <p>
+   * If {{param|OperatingFrequencyBand}} is set to
+   * {{enum|2.4GHz|OperatingFrequencyBand}}, only values {{enum|b}}, {{enum|g}},
+   * {{enum|n}} are allowed.
+   * <p>
+   * If {{param|OperatingFrequencyBand}} is set to
+   * {{enum|5GHz|OperatingFrequencyBand}}, only values {{enum|a}}, {{enum|n}},
+   * {{enum|ac}} are allowed.
+   * <p>
+   * For example, a value of "g,b" (or "b,g" - order is not important) means
+   * that the 802.11g standard {{bibref|802.11g-2003}} is used with a
+   * backwards-compatible mode for 802.11b {{bibref|802.11b-1999}}. A value of
+   * "g" means that only the 802.11g standard can be used.
+   *
+   * @since 2.0
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewOperatingStandards() {
+    return operatingStandards == null ? Collections.emptyList() : operatingStandards;
+  }
+
   /**
    * Set the {{list}} List items indicate which IEEE 802.11 standard this
    * {{object}} instance is configured for.
@@ -1197,6 +1368,9 @@ public class Radio {
    */
   public void setOperatingStandards(Collection<String> operatingStandards) {
     this.operatingStandards = operatingStandards;
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
   }
 
   /**
@@ -1224,6 +1398,9 @@ public class Radio {
    */
   public Radio withOperatingStandards(String string) {
     getOperatingStandards().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(11);
+    }
     return this;
   }
 
@@ -1245,6 +1422,22 @@ public class Radio {
     return possibleChannels;
   }
 
+  /**
+   * Read the {{list}} List items represent possible radio channels for the
+   * wireless standard (a, b, g, n) and the regulatory domain.
+   * <p>
+   * Ranges in the form "n-m" are permitted.
+   * <p>
+   * For example, for 802.11b and North America, would be "1-11".
+   *
+   * @since 2.0
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewPossibleChannels() {
+    return possibleChannels == null ? Collections.emptyList() : possibleChannels;
+  }
+
   /**
    * Set the {{list}} List items represent possible radio channels for the
    * wireless standard (a, b, g, n) and the regulatory domain.
@@ -1258,6 +1451,9 @@ public class Radio {
    */
   public void setPossibleChannels(Collection<String> possibleChannels) {
     this.possibleChannels = possibleChannels;
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
   }
 
   /**
@@ -1274,6 +1470,9 @@ public class Radio {
    */
   public Radio withPossibleChannels(String string) {
     getPossibleChannels().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(12);
+    }
     return this;
   }
 
@@ -1293,6 +1492,20 @@ public class Radio {
     return channelsInUse;
   }
 
+  /**
+   * Read the {{list}} List items represent channels that the radio determines to
+   * be currently in use (including any that it is using itself).
+   * <p>
+   * Ranges in the form "n-m" are permitted.
+   *
+   * @since 2.0
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewChannelsInUse() {
+    return channelsInUse == null ? Collections.emptyList() : channelsInUse;
+  }
+
   /**
    * Set the {{list}} List items represent channels that the radio determines to
    * be currently in use (including any that it is using itself).
@@ -1304,6 +1517,9 @@ public class Radio {
    */
   public void setChannelsInUse(Collection<String> channelsInUse) {
     this.channelsInUse = channelsInUse;
+    if (this.dirty != null) {
+      this.dirty.set(13);
+    }
   }
 
   /**
@@ -1318,6 +1534,9 @@ public class Radio {
    */
   public Radio withChannelsInUse(String string) {
     getChannelsInUse().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(13);
+    }
     return this;
   }
 
@@ -1355,6 +1574,9 @@ public class Radio {
    */
   public void setChannel(Long channel) {
     this.channel = channel;
+    if (this.dirty != null) {
+      this.dirty.set(14);
+    }
   }
 
   /**
@@ -1374,6 +1596,9 @@ public class Radio {
    */
   public Radio withChannel(Long channel) {
     this.channel = channel;
+    if (this.dirty != null) {
+      this.dirty.set(14);
+    }
     return this;
   }
 
@@ -1397,6 +1622,9 @@ public class Radio {
    */
   public void setAutoChannelSupported(Boolean autoChannelSupported) {
     this.autoChannelSupported = autoChannelSupported;
+    if (this.dirty != null) {
+      this.dirty.set(15);
+    }
   }
 
   /**
@@ -1409,6 +1637,9 @@ public class Radio {
    */
   public Radio withAutoChannelSupported(Boolean autoChannelSupported) {
     this.autoChannelSupported = autoChannelSupported;
+    if (this.dirty != null) {
+      this.dirty.set(15);
+    }
     return this;
   }
 
@@ -1460,6 +1691,9 @@ public class Radio {
    */
   public void setAutoChannelEnable(Boolean autoChannelEnable) {
     this.autoChannelEnable = autoChannelEnable;
+    if (this.dirty != null) {
+      this.dirty.set(16);
+    }
   }
 
   /**
@@ -1486,6 +1720,9 @@ public class Radio {
    */
   public Radio withAutoChannelEnable(Boolean autoChannelEnable) {
     this.autoChannelEnable = autoChannelEnable;
+    if (this.dirty != null) {
+      this.dirty.set(16);
+    }
     return this;
   }
 
@@ -1517,6 +1754,9 @@ public class Radio {
    */
   public void setAutoChannelRefreshPeriod(Long autoChannelRefreshPeriod) {
     this.autoChannelRefreshPeriod = autoChannelRefreshPeriod;
+    if (this.dirty != null) {
+      this.dirty.set(17);
+    }
   }
 
   /**
@@ -1533,6 +1773,9 @@ public class Radio {
    */
   public Radio withAutoChannelRefreshPeriod(Long autoChannelRefreshPeriod) {
     this.autoChannelRefreshPeriod = autoChannelRefreshPeriod;
+    if (this.dirty != null) {
+      this.dirty.set(17);
+    }
     return this;
   }
 
@@ -1556,6 +1799,9 @@ public class Radio {
    */
   public void setOperatingChannelBandwidth(String operatingChannelBandwidth) {
     this.operatingChannelBandwidth = operatingChannelBandwidth;
+    if (this.dirty != null) {
+      this.dirty.set(18);
+    }
   }
 
   /**
@@ -1568,6 +1814,9 @@ public class Radio {
    */
   public Radio withOperatingChannelBandwidth(String operatingChannelBandwidth) {
     this.operatingChannelBandwidth = operatingChannelBandwidth;
+    if (this.dirty != null) {
+      this.dirty.set(18);
+    }
     return this;
   }
 
@@ -1595,6 +1844,9 @@ public class Radio {
    */
   public void setExtensionChannel(String extensionChannel) {
     this.extensionChannel = extensionChannel;
+    if (this.dirty != null) {
+      this.dirty.set(19);
+    }
   }
 
   /**
@@ -1609,6 +1861,9 @@ public class Radio {
    */
   public Radio withExtensionChannel(String extensionChannel) {
     this.extensionChannel = extensionChannel;
+    if (this.dirty != null) {
+      this.dirty.set(19);
+    }
     return this;
   }
 
@@ -1632,6 +1887,9 @@ public class Radio {
    */
   public void setGuardInterval(String guardInterval) {
     this.guardInterval = guardInterval;
+    if (this.dirty != null) {
+      this.dirty.set(20);
+    }
   }
 
   /**
@@ -1644,6 +1902,9 @@ public class Radio {
    */
   public Radio withGuardInterval(String guardInterval) {
     this.guardInterval = guardInterval;
+    if (this.dirty != null) {
+      this.dirty.set(20);
+    }
     return this;
   }
 
@@ -1673,6 +1934,9 @@ public class Radio {
    */
   public void setMcs(Integer mcs) {
     this.mcs = mcs;
+    if (this.dirty != null) {
+      this.dirty.set(21);
+    }
   }
 
   /**
@@ -1688,6 +1952,9 @@ public class Radio {
    */
   public Radio withMcs(Integer mcs) {
     this.mcs = mcs;
+    if (this.dirty != null) {
+      this.dirty.set(21);
+    }
     return this;
   }
 
@@ -1721,6 +1988,9 @@ public class Radio {
    */
   public void setTransmitPowerSupported(Integer transmitPowerSupported) {
     this.transmitPowerSupported = transmitPowerSupported;
+    if (this.dirty != null) {
+      this.dirty.set(22);
+    }
   }
 
   /**
@@ -1738,6 +2008,9 @@ public class Radio {
    */
   public Radio withTransmitPowerSupported(Integer transmitPowerSupported) {
     this.transmitPowerSupported = transmitPowerSupported;
+    if (this.dirty != null) {
+      this.dirty.set(22);
+    }
     return this;
   }
 
@@ -1765,6 +2038,9 @@ public class Radio {
    */
   public void setTransmitPower(Integer transmitPower) {
     this.transmitPower = transmitPower;
+    if (this.dirty != null) {
+      this.dirty.set(23);
+    }
   }
 
   /**
@@ -1779,6 +2055,9 @@ public class Radio {
    */
   public Radio withTransmitPower(Integer transmitPower) {
     this.transmitPower = transmitPower;
+    if (this.dirty != null) {
+      this.dirty.set(23);
+    }
     return this;
   }
 
@@ -1812,6 +2091,9 @@ public class Radio {
    */
   public void setIeeE80211hSupported(Boolean ieeE80211hSupported) {
     this.ieeE80211hSupported = ieeE80211hSupported;
+    if (this.dirty != null) {
+      this.dirty.set(24);
+    }
   }
 
   /**
@@ -1829,6 +2111,9 @@ public class Radio {
    */
   public Radio withIeeE80211hSupported(Boolean ieeE80211hSupported) {
     this.ieeE80211hSupported = ieeE80211hSupported;
+    if (this.dirty != null) {
+      this.dirty.set(24);
+    }
     return this;
   }
 
@@ -1860,6 +2145,9 @@ public class Radio {
    */
   public void setIeeE80211hEnabled(Boolean ieeE80211hEnabled) {
     this.ieeE80211hEnabled = ieeE80211hEnabled;
+    if (this.dirty != null) {
+      this.dirty.set(25);
+    }
   }
 
   /**
@@ -1876,6 +2164,9 @@ public class Radio {
    */
   public Radio withIeeE80211hEnabled(Boolean ieeE80211hEnabled) {
     this.ieeE80211hEnabled = ieeE80211hEnabled;
+    if (this.dirty != null) {
+      this.dirty.set(25);
+    }
     return this;
   }
 
@@ -1901,6 +2192,9 @@ public class Radio {
    */
   public void setRegulatoryDomain(String regulatoryDomain) {
     this.regulatoryDomain = regulatoryDomain;
+    if (this.dirty != null) {
+      this.dirty.set(26);
+    }
   }
 
   /**
@@ -1914,6 +2208,9 @@ public class Radio {
    */
   public Radio withRegulatoryDomain(String regulatoryDomain) {
     this.regulatoryDomain = regulatoryDomain;
+    if (this.dirty != null) {
+      this.dirty.set(26);
+    }
     return this;
   }
 
@@ -1939,6 +2236,9 @@ public class Radio {
    */
   public void setRetryLimit(Long retryLimit) {
     this.retryLimit = retryLimit;
+    if (this.dirty != null) {
+      this.dirty.set(27);
+    }
   }
 
   /**
@@ -1952,6 +2252,9 @@ public class Radio {
    */
   public Radio withRetryLimit(Long retryLimit) {
     this.retryLimit = retryLimit;
+    if (this.dirty != null) {
+      this.dirty.set(27);
+    }
     return this;
   }
 
@@ -1975,6 +2278,9 @@ public class Radio {
    */
   public void setCcaRequest(byte[] ccaRequest) {
     this.ccaRequest = ccaRequest;
+    if (this.dirty != null) {
+      this.dirty.set(28);
+    }
   }
 
   /**
@@ -1987,6 +2293,9 @@ public class Radio {
    */
   public Radio withCcaRequest(byte[] ccaRequest) {
     this.ccaRequest = ccaRequest;
+    if (this.dirty != null) {
+      this.dirty.set(28);
+    }
     return this;
   }
 
@@ -2022,6 +2331,9 @@ public class Radio {
    */
   public void setCcaReport(byte[] ccaReport) {
     this.ccaReport = ccaReport;
+    if (this.dirty != null) {
+      this.dirty.set(29);
+    }
   }
 
   /**
@@ -2040,6 +2352,9 @@ public class Radio {
    */
   public Radio withCcaReport(byte[] ccaReport) {
     this.ccaReport = ccaReport;
+    if (this.dirty != null) {
+      this.dirty.set(29);
+    }
     return this;
   }
 
@@ -2063,6 +2378,9 @@ public class Radio {
    */
   public void setRpiHistogramRequest(byte[] rpiHistogramRequest) {
     this.rpiHistogramRequest = rpiHistogramRequest;
+    if (this.dirty != null) {
+      this.dirty.set(30);
+    }
   }
 
   /**
@@ -2075,6 +2393,9 @@ public class Radio {
    */
   public Radio withRpiHistogramRequest(byte[] rpiHistogramRequest) {
     this.rpiHistogramRequest = rpiHistogramRequest;
+    if (this.dirty != null) {
+      this.dirty.set(30);
+    }
     return this;
   }
 
@@ -2098,6 +2419,9 @@ public class Radio {
    */
   public void setRpiHistogramReport(byte[] rpiHistogramReport) {
     this.rpiHistogramReport = rpiHistogramReport;
+    if (this.dirty != null) {
+      this.dirty.set(31);
+    }
   }
 
   /**
@@ -2110,6 +2434,9 @@ public class Radio {
    */
   public Radio withRpiHistogramReport(byte[] rpiHistogramReport) {
     this.rpiHistogramReport = rpiHistogramReport;
+    if (this.dirty != null) {
+      this.dirty.set(31);
+    }
     return this;
   }
 
@@ -2135,6 +2462,9 @@ public class Radio {
    */
   public void setFragmentationThreshold(Long fragmentationThreshold) {
     this.fragmentationThreshold = fragmentationThreshold;
+    if (this.dirty != null) {
+      this.dirty.set(32);
+    }
   }
 
   /**
@@ -2148,6 +2478,9 @@ public class Radio {
    */
   public Radio withFragmentationThreshold(Long fragmentationThreshold) {
     this.fragmentationThreshold = fragmentationThreshold;
+    if (this.dirty != null) {
+      this.dirty.set(32);
+    }
     return this;
   }
 
@@ -2173,6 +2506,9 @@ public class Radio {
    */
   public void setRtsThreshold(Long rtsThreshold) {
     this.rtsThreshold = rtsThreshold;
+    if (this.dirty != null) {
+      this.dirty.set(33);
+    }
   }
 
   /**
@@ -2186,6 +2522,9 @@ public class Radio {
    */
   public Radio withRtsThreshold(Long rtsThreshold) {
     this.rtsThreshold = rtsThreshold;
+    if (this.dirty != null) {
+      this.dirty.set(33);
+    }
     return this;
   }
 
@@ -2213,6 +2552,9 @@ public class Radio {
    */
   public void setLongRetryLimit(Long longRetryLimit) {
     this.longRetryLimit = longRetryLimit;
+    if (this.dirty != null) {
+      this.dirty.set(34);
+    }
   }
 
   /**
@@ -2227,6 +2569,9 @@ public class Radio {
    */
   public Radio withLongRetryLimit(Long longRetryLimit) {
     this.longRetryLimit = longRetryLimit;
+    if (this.dirty != null) {
+      this.dirty.set(34);
+    }
     return this;
   }
 
@@ -2252,6 +2597,9 @@ public class Radio {
    */
   public void setBeaconPeriod(Long beaconPeriod) {
     this.beaconPeriod = beaconPeriod;
+    if (this.dirty != null) {
+      this.dirty.set(35);
+    }
   }
 
   /**
@@ -2265,6 +2613,9 @@ public class Radio {
    */
   public Radio withBeaconPeriod(Long beaconPeriod) {
     this.beaconPeriod = beaconPeriod;
+    if (this.dirty != null) {
+      this.dirty.set(35);
+    }
     return this;
   }
 
@@ -2292,6 +2643,9 @@ public class Radio {
    */
   public void setDtiMPeriod(Long dtiMPeriod) {
     this.dtiMPeriod = dtiMPeriod;
+    if (this.dirty != null) {
+      this.dirty.set(36);
+    }
   }
 
   /**
@@ -2306,6 +2660,9 @@ public class Radio {
    */
   public Radio withDtiMPeriod(Long dtiMPeriod) {
     this.dtiMPeriod = dtiMPeriod;
+    if (this.dirty != null) {
+      this.dirty.set(36);
+    }
     return this;
   }
 
@@ -2329,6 +2686,9 @@ public class Radio {
    */
   public void setPacketAggregationEnable(Boolean packetAggregationEnable) {
     this.packetAggregationEnable = packetAggregationEnable;
+    if (this.dirty != null) {
+      this.dirty.set(37);
+    }
   }
 
   /**
@@ -2341,6 +2701,9 @@ public class Radio {
    */
   public Radio withPacketAggregationEnable(Boolean packetAggregationEnable) {
     this.packetAggregationEnable = packetAggregationEnable;
+    if (this.dirty != null) {
+      this.dirty.set(37);
+    }
     return this;
   }
 
@@ -2364,6 +2727,9 @@ public class Radio {
    */
   public void setPreambleType(String preambleType) {
     this.preambleType = preambleType;
+    if (this.dirty != null) {
+      this.dirty.set(38);
+    }
   }
 
   /**
@@ -2376,6 +2742,9 @@ public class Radio {
    */
   public Radio withPreambleType(String preambleType) {
     this.preambleType = preambleType;
+    if (this.dirty != null) {
+      this.dirty.set(38);
+    }
     return this;
   }
 
@@ -2396,6 +2765,21 @@ public class Radio {
     return basicDataTransmitRates;
   }
 
+  /**
+   * Read the {{list}} The set of data rates, in ''Mbps'', that have to be
+   * supported by all stations that desire to join this BSS. The stations have
+   * to be able to receive and transmit at each of the data rates listed in
+   * {{param}}. For example, a value of "1,2", indicates that stations support 1
+   * Mbps and 2 Mbps. Most control packets use a data rate in {{param}}.
+   *
+   * @since 2.8
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewBasicDataTransmitRates() {
+    return basicDataTransmitRates == null ? Collections.emptyList() : basicDataTransmitRates;
+  }
+
   /**
    * Set the {{list}} The set of data rates, in ''Mbps'', that have to be
    * supported by all stations that desire to join this BSS. The stations have
@@ -2408,6 +2792,9 @@ public class Radio {
    */
   public void setBasicDataTransmitRates(Collection<String> basicDataTransmitRates) {
     this.basicDataTransmitRates = basicDataTransmitRates;
+    if (this.dirty != null) {
+      this.dirty.set(39);
+    }
   }
 
   /**
@@ -2423,6 +2810,9 @@ public class Radio {
    */
   public Radio withBasicDataTransmitRates(String string) {
     getBasicDataTransmitRates().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(39);
+    }
     return this;
   }
 
@@ -2443,6 +2833,21 @@ public class Radio {
     return operationalDataTransmitRates;
   }
 
+  /**
+   * Read the {{list}} Maximum access point data transmit rates in ''Mbps'' for
+   * unicast frames (a superset of {{param|BasicDataTransmitRates}}). Given the
+   * value of {{param|BasicDataTransmitRates}} from the example above, {{param}}
+   * might be "1,2,5.5,11", indicating that unicast frames can additionally be
+   * transmitted at 5.5 Mbps and 11 Mbps.
+   *
+   * @since 2.8
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewOperationalDataTransmitRates() {
+    return operationalDataTransmitRates == null ? Collections.emptyList() : operationalDataTransmitRates;
+  }
+
   /**
    * Set the {{list}} Maximum access point data transmit rates in ''Mbps'' for
    * unicast frames (a superset of {{param|BasicDataTransmitRates}}). Given the
@@ -2455,6 +2860,9 @@ public class Radio {
    */
   public void setOperationalDataTransmitRates(Collection<String> operationalDataTransmitRates) {
     this.operationalDataTransmitRates = operationalDataTransmitRates;
+    if (this.dirty != null) {
+      this.dirty.set(40);
+    }
   }
 
   /**
@@ -2470,6 +2878,9 @@ public class Radio {
    */
   public Radio withOperationalDataTransmitRates(String string) {
     getOperationalDataTransmitRates().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(40);
+    }
     return this;
   }
 
@@ -2492,6 +2903,23 @@ public class Radio {
     return supportedDataTransmitRates;
   }
 
+  /**
+   * Read the {{list}} Data transmit rates in ''Mbps'' for unicast frames at
+   * which the access point will permit a station to connect (a subset of
+   * {{param|OperationalDataTransmitRates}}). Given the values of
+   * {{param|BasicDataTransmitRates}} and {{param|OperationalDataTransmitRates}}
+   * from the examples above, {{param}} might be "1,2,5.5", indicating that the
+   * AP will only permit connections at 1 Mbps, 2 Mbps and 5.5 Mbps, even though
+   * it could theoretically accept connections at 11 Mbps.
+   *
+   * @since 2.8
+   * @return the value, a shared empty collection if not set. Never
+   *         modifies this object.
+   */
+  public Collection<String> viewSupportedDataTransmitRates() {
+    return supportedDataTransmitRates == null ? Collections.emptyList() : supportedDataTransmitRates;
+  }
+
   /**
    * Set the {{list}} Data transmit rates in ''Mbps'' for unicast frames at
    * which the access point will permit a station to connect (a subset of
@@ -2506,6 +2934,9 @@ public class Radio {
    */
   public void setSupportedDataTransmitRates(Collection<String> supportedDataTransmitRates) {
     this.supportedDataTransmitRates = supportedDataTransmitRates;
+    if (this.dirty != null) {
+      this.dirty.set(41);
+    }
   }
 
   /**
@@ -2523,6 +2954,9 @@ public class Radio {
    */
   public Radio withSupportedDataTransmitRates(String string) {
     getSupportedDataTransmitRates().add(string);
+    if (this.dirty != null) {
+      this.dirty.set(41);
+    }
     return this;
   }
 
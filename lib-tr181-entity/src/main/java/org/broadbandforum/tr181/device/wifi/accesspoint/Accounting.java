@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -112,6 +113,11 @@ public class Accounting {
 	@Size(min = 60)
 	public Long interimInterval = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Accounting() {
 	}
 
@@ -134,6 +140,7 @@ public class Accounting {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -145,6 +152,7 @@ public class Accounting {
 	 */
 	public Accounting withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -166,6 +174,7 @@ public class Accounting {
 	 */
 	public void  setServerIPAddr(IPAddress serverIPAddr) {
 		this.serverIPAddr = serverIPAddr;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -177,6 +186,7 @@ public class Accounting {
 	 */
 	public Accounting withServerIPAddr(IPAddress serverIPAddr) {
 		this.serverIPAddr = serverIPAddr;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -202,6 +212,7 @@ public class Accounting {
 	 */
 	public void  setSecondaryServerIPAddr(IPAddress secondaryServerIPAddr) {
 		this.secondaryServerIPAddr = secondaryServerIPAddr;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -215,6 +226,7 @@ public class Accounting {
 	 */
 	public Accounting withSecondaryServerIPAddr(IPAddress secondaryServerIPAddr) {
 		this.secondaryServerIPAddr = secondaryServerIPAddr;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -236,6 +248,7 @@ public class Accounting {
 	 */
 	public void  setServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -247,6 +260,7 @@ public class Accounting {
 	 */
 	public Accounting withServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -272,6 +286,7 @@ public class Accounting {
 	 */
 	public void  setSecondaryServerPort(Long secondaryServerPort) {
 		this.secondaryServerPort = secondaryServerPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -285,6 +300,7 @@ public class Accounting {
 	 */
 	public Accounting withSecondaryServerPort(Long secondaryServerPort) {
 		this.secondaryServerPort = secondaryServerPort;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -306,6 +322,7 @@ public class Accounting {
 	 */
 	public void  setSecret(String secret) {
 		this.secret = secret;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -317,6 +334,7 @@ public class Accounting {
 	 */
 	public Accounting withSecret(String secret) {
 		this.secret = secret;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -342,6 +360,7 @@ public class Accounting {
 	 */
 	public void  setSecondarySecret(String secondarySecret) {
 		this.secondarySecret = secondarySecret;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -355,6 +374,7 @@ public class Accounting {
 	 */
 	public Accounting withSecondarySecret(String secondarySecret) {
 		this.secondarySecret = secondarySecret;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -384,6 +404,7 @@ public class Accounting {
 	 */
 	public void  setInterimInterval(Long interimInterval) {
 		this.interimInterval = interimInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -399,6 +420,7 @@ public class Accounting {
 	 */
 	public Accounting withInterimInterval(Long interimInterval) {
 		this.interimInterval = interimInterval;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
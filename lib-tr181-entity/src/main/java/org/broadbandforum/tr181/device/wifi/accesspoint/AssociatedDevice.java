@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 import org.broadbandforum.tr181.device.wifi.accesspoint.associateddevice.Stats;
 
@@ -112,6 +114,16 @@ public class AssociatedDevice {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -134,6 +146,8 @@ public class AssociatedDevice {
 	 */
 	public void  setMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -145,6 +159,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withMacAddress(MACAddress macAddress) {
 		this.macAddress = macAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -166,6 +182,7 @@ public class AssociatedDevice {
 	 */
 	public void  setOperatingStandard(String operatingStandard) {
 		this.operatingStandard = operatingStandard;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -177,6 +194,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withOperatingStandard(String operatingStandard) {
 		this.operatingStandard = operatingStandard;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -198,6 +216,7 @@ public class AssociatedDevice {
 	 */
 	public void  setAuthenticationState(Boolean authenticationState) {
 		this.authenticationState = authenticationState;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -209,6 +228,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withAuthenticationState(Boolean authenticationState) {
 		this.authenticationState = authenticationState;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -230,6 +250,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastDataDownlinkRate(Long lastDataDownlinkRate) {
 		this.lastDataDownlinkRate = lastDataDownlinkRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -241,6 +262,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastDataDownlinkRate(Long lastDataDownlinkRate) {
 		this.lastDataDownlinkRate = lastDataDownlinkRate;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -262,6 +284,7 @@ public class AssociatedDevice {
 	 */
 	public void  setLastDataUplinkRate(Long lastDataUplinkRate) {
 		this.lastDataUplinkRate = lastDataUplinkRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -273,6 +296,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withLastDataUplinkRate(Long lastDataUplinkRate) {
 		this.lastDataUplinkRate = lastDataUplinkRate;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -294,6 +318,7 @@ public class AssociatedDevice {
 	 */
 	public void  setSignalStrength(Integer signalStrength) {
 		this.signalStrength = signalStrength;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -305,6 +330,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withSignalStrength(Integer signalStrength) {
 		this.signalStrength = signalStrength;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -326,6 +352,7 @@ public class AssociatedDevice {
 	 */
 	public void  setRetransmissions(Long retransmissions) {
 		this.retransmissions = retransmissions;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -337,6 +364,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withRetransmissions(Long retransmissions) {
 		this.retransmissions = retransmissions;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -362,6 +390,7 @@ public class AssociatedDevice {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -375,6 +404,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.wifi.accesspoint;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -165,6 +167,11 @@ public class Security {
 	@CWMPParameter(access = "readWrite")
 	public String secondaryRadiusSecret;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Security() {
 	}
 
@@ -191,6 +198,7 @@ public class Security {
 	 */
 	public void  setReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -204,6 +212,7 @@ public class Security {
 	 */
 	public Security withReset(Boolean reset) {
 		this.reset = reset;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -218,6 +227,17 @@ public class Security {
 		return modesSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates which security modes this {{object|#}} instance is capable of supporting.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewModesSupported() {
+		return modesSupported == null ? Collections.emptyList() : modesSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates which security modes this {{object|#}} instance is capable of supporting.
 	 *
@@ -226,6 +246,7 @@ public class Security {
 	 */
 	public void  setModesSupported(Collection<String> modesSupported) {
 		this.modesSupported = modesSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -237,6 +258,7 @@ public class Security {
 	 */
 	public Security withModesSupported(String string) {
 		getModesSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -258,6 +280,7 @@ public class Security {
 	 */
 	public void  setModeEnabled(String modeEnabled) {
 		this.modeEnabled = modeEnabled;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -269,6 +292,7 @@ public class Security {
 	 */
 	public Security withModeEnabled(String modeEnabled) {
 		this.modeEnabled = modeEnabled;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -298,6 +322,7 @@ public class Security {
 	 */
 	public void  setWepKey(byte[] wepKey) {
 		this.wepKey = wepKey;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -313,6 +338,7 @@ public class Security {
 	 */
 	public Security withWepKey(byte[] wepKey) {
 		this.wepKey = wepKey;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -342,6 +368,7 @@ public class Security {
 	 */
 	public void  setPreSharedKey(byte[] preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -357,6 +384,7 @@ public class Security {
 	 */
 	public Security withPreSharedKey(byte[] preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -382,6 +410,7 @@ public class Security {
 	 */
 	public void  setKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -395,6 +424,7 @@ public class Security {
 	 */
 	public Security withKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -420,6 +450,7 @@ public class Security {
 	 */
 	public void  setRekeyingInterval(Long rekeyingInterval) {
 		this.rekeyingInterval = rekeyingInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -433,6 +464,7 @@ public class Security {
 	 */
 	public Security withRekeyingInterval(Long rekeyingInterval) {
 		this.rekeyingInterval = rekeyingInterval;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -454,6 +486,7 @@ public class Security {
 	 */
 	public void  setRadiusServerIPAddr(IPAddress radiusServerIPAddr) {
 		this.radiusServerIPAddr = radiusServerIPAddr;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -465,6 +498,7 @@ public class Security {
 	 */
 	public Security withRadiusServerIPAddr(IPAddress radiusServerIPAddr) {
 		this.radiusServerIPAddr = radiusServerIPAddr;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -490,6 +524,7 @@ public class Security {
 	 */
 	public void  setSecondaryRadiusServerIPAddr (IPAddress secondaryRadiusServerIPAddr ) {
 		this.secondaryRadiusServerIPAddr  = secondaryRadiusServerIPAddr ;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -503,6 +538,7 @@ public class Security {
 	 */
 	public Security withSecondaryRadiusServerIPAddr (IPAddress secondaryRadiusServerIPAddr ) {
 		this.secondaryRadiusServerIPAddr  = secondaryRadiusServerIPAddr ;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -524,6 +560,7 @@ public class Security {
 	 */
 	public void  setRadiusServerPort(Long radiusServerPort) {
 		this.radiusServerPort = radiusServerPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -535,6 +572,7 @@ public class Security {
 	 */
 	public Security withRadiusServerPort(Long radiusServerPort) {
 		this.radiusServerPort = radiusServerPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -560,6 +598,7 @@ public class Security {
 	 */
 	public void  setSecondaryRadiusServerPort(Long secondaryRadiusServerPort) {
 		this.secondaryRadiusServerPort = secondaryRadiusServerPort;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -573,6 +612,7 @@ public class Security {
 	 */
 	public Security withSecondaryRadiusServerPort(Long secondaryRadiusServerPort) {
 		this.secondaryRadiusServerPort = secondaryRadiusServerPort;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -594,6 +634,7 @@ public class Security {
 	 */
 	public void  setRadiusSecret(String radiusSecret) {
 		this.radiusSecret = radiusSecret;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -605,6 +646,7 @@ public class Security {
 	 */
 	public Security withRadiusSecret(String radiusSecret) {
 		this.radiusSecret = radiusSecret;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -630,6 +672,7 @@ public class Security {
 	 */
 	public void  setSecondaryRadiusSecret(String secondaryRadiusSecret) {
 		this.secondaryRadiusSecret = secondaryRadiusSecret;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -643,6 +686,7 @@ public class Security {
 	 */
 	public Security withSecondaryRadiusSecret(String secondaryRadiusSecret) {
 		this.secondaryRadiusSecret = secondaryRadiusSecret;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.wifi.accesspoint;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to Wi-Fi Protected Setup {{bibref|WPSv1.0}} for this access point.
@@ -67,6 +69,11 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 	@XmlList
 	public Collection<String> configMethodsEnabled;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WPS() {
 	}
 
@@ -89,6 +96,7 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +108,7 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 	 */
 	public WPS withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -118,6 +127,21 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 		return configMethodsSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates WPS configuration methods supported by the device.  
+
+Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, IntegratedNFCToken, NFCInterface, PushButton, PIN]
+
+          This parameter corresponds directly to the "Config Methods" attribute of the WPS specification {{bibref|WPSv1.0}}. The {{enum|PushButton}} and {{enum|PIN}} methods MUST be supported.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewConfigMethodsSupported() {
+		return configMethodsSupported == null ? Collections.emptyList() : configMethodsSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates WPS configuration methods supported by the device.  
 
@@ -130,6 +154,7 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 	 */
 	public void  setConfigMethodsSupported(Collection<String> configMethodsSupported) {
 		this.configMethodsSupported = configMethodsSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -145,6 +170,7 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 	 */
 	public WPS withConfigMethodsSupported(String string) {
 		getConfigMethodsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -159,6 +185,17 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 		return configMethodsEnabled;
 	}
 
+	/**
+	 * Read the {{list}} Indicates WPS configuration methods enabled on the device.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewConfigMethodsEnabled() {
+		return configMethodsEnabled == null ? Collections.emptyList() : configMethodsEnabled;
+	}
+
 	/**
 	 * Set the {{list}} Indicates WPS configuration methods enabled on the device.
 	 *
@@ -167,6 +204,7 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 	 */
 	public void  setConfigMethodsEnabled(Collection<String> configMethodsEnabled) {
 		this.configMethodsEnabled = configMethodsEnabled;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -178,6 +216,7 @@ Enumerated value must be one of [USBFlashDrive, Ethernet, ExternalNFCToken, Inte
 	 */
 	public WPS withConfigMethodsEnabled(String string) {
 		getConfigMethodsEnabled().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
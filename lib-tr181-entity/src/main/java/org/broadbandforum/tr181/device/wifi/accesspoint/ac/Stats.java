@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.wifi.accesspoint.ac;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -116,6 +118,11 @@ public class Stats {
 	@XmlList
 	public Collection<String> outQLenHistogram;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -138,6 +145,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -149,6 +157,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -170,6 +179,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -181,6 +191,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -202,6 +213,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -213,6 +225,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -234,6 +247,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -245,6 +259,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -266,6 +281,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -277,6 +293,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -298,6 +315,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -309,6 +327,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(StatsCounter32 errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -330,6 +349,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(StatsCounter32 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -341,6 +361,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(StatsCounter32 discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -362,6 +383,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(StatsCounter32 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -373,6 +395,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(StatsCounter32 discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -394,6 +417,7 @@ public class Stats {
 	 */
 	public void  setRetransCount(StatsCounter32 retransCount) {
 		this.retransCount = retransCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -405,6 +429,7 @@ public class Stats {
 	 */
 	public Stats withRetransCount(StatsCounter32 retransCount) {
 		this.retransCount = retransCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -419,6 +444,17 @@ public class Stats {
 		return outQLenHistogram;
 	}
 
+	/**
+	 * Read the {{list}} Histogram of the total length of the transmit queue of this access category in packets (1 packet, 2 packets, etc.) according to the intervals defined by {{param|#.OutQLenHistogramIntervals}}, with samples taken each {{param|#.OutQLenHistogramSampleInterval}}. Example: "12,5,1,0,2,0,0,1".
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOutQLenHistogram() {
+		return outQLenHistogram == null ? Collections.emptyList() : outQLenHistogram;
+	}
+
 	/**
 	 * Set the {{list}} Histogram of the total length of the transmit queue of this access category in packets (1 packet, 2 packets, etc.) according to the intervals defined by {{param|#.OutQLenHistogramIntervals}}, with samples taken each {{param|#.OutQLenHistogramSampleInterval}}. Example: "12,5,1,0,2,0,0,1".
 	 *
@@ -427,6 +463,7 @@ public class Stats {
 	 */
 	public void  setOutQLenHistogram(Collection<String> outQLenHistogram) {
 		this.outQLenHistogram = outQLenHistogram;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -438,6 +475,7 @@ public class Stats {
 	 */
 	public Stats withOutQLenHistogram(String string) {
 		getOutQLenHistogram().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
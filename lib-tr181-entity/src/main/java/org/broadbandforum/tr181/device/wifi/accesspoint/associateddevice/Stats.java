@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.StatsCounter32;
 import org.broadbandforum.common.StatsCounter64;
 
@@ -101,6 +102,11 @@ public class Stats {
 	@XmlElement(name = "MultipleRetryCount")
 	public StatsCounter32 multipleRetryCount;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -123,6 +129,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +141,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(StatsCounter64 bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -155,6 +163,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -166,6 +175,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(StatsCounter64 bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -187,6 +197,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -198,6 +209,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(StatsCounter64 packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -219,6 +231,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -230,6 +243,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(StatsCounter64 packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -251,6 +265,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -262,6 +277,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(StatsCounter32 errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -283,6 +299,7 @@ public class Stats {
 	 */
 	public void  setRetransCount(StatsCounter32 retransCount) {
 		this.retransCount = retransCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -294,6 +311,7 @@ public class Stats {
 	 */
 	public Stats withRetransCount(StatsCounter32 retransCount) {
 		this.retransCount = retransCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -315,6 +333,7 @@ public class Stats {
 	 */
 	public void  setFailedRetransCount(StatsCounter32 failedRetransCount) {
 		this.failedRetransCount = failedRetransCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -326,6 +345,7 @@ public class Stats {
 	 */
 	public Stats withFailedRetransCount(StatsCounter32 failedRetransCount) {
 		this.failedRetransCount = failedRetransCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -347,6 +367,7 @@ public class Stats {
 	 */
 	public void  setRetryCount(StatsCounter32 retryCount) {
 		this.retryCount = retryCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -358,6 +379,7 @@ public class Stats {
 	 */
 	public Stats withRetryCount(StatsCounter32 retryCount) {
 		this.retryCount = retryCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -379,6 +401,7 @@ public class Stats {
 	 */
 	public void  setMultipleRetryCount(StatsCounter32 multipleRetryCount) {
 		this.multipleRetryCount = multipleRetryCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -390,6 +413,7 @@ public class Stats {
 	 */
 	public Stats withMultipleRetryCount(StatsCounter32 multipleRetryCount) {
 		this.multipleRetryCount = multipleRetryCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
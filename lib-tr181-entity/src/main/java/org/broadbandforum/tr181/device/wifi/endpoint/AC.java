@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.wifi.endpoint;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.wifi.endpoint.ac.Stats;
 
 	/**
@@ -137,6 +140,16 @@ public class AC {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AC() {
 	}
 
@@ -159,6 +172,8 @@ public class AC {
 	 */
 	public void  setAccessCategory(String accessCategory) {
 		this.accessCategory = accessCategory;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -170,6 +185,8 @@ public class AC {
 	 */
 	public AC withAccessCategory(String accessCategory) {
 		this.accessCategory = accessCategory;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -191,6 +208,7 @@ public class AC {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -202,6 +220,7 @@ public class AC {
 	 */
 	public AC withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -223,6 +242,7 @@ public class AC {
 	 */
 	public void  setAifSN(Long aifSN) {
 		this.aifSN = aifSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -234,6 +254,7 @@ public class AC {
 	 */
 	public AC withAifSN(Long aifSN) {
 		this.aifSN = aifSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -255,6 +276,7 @@ public class AC {
 	 */
 	public void  setEcwMin(Long ecwMin) {
 		this.ecwMin = ecwMin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -266,6 +288,7 @@ public class AC {
 	 */
 	public AC withEcwMin(Long ecwMin) {
 		this.ecwMin = ecwMin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -287,6 +310,7 @@ public class AC {
 	 */
 	public void  setEcwMax(Long ecwMax) {
 		this.ecwMax = ecwMax;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -298,6 +322,7 @@ public class AC {
 	 */
 	public AC withEcwMax(Long ecwMax) {
 		this.ecwMax = ecwMax;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -319,6 +344,7 @@ public class AC {
 	 */
 	public void  setTxopMax(Long txopMax) {
 		this.txopMax = txopMax;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -330,6 +356,7 @@ public class AC {
 	 */
 	public AC withTxopMax(Long txopMax) {
 		this.txopMax = txopMax;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -351,6 +378,7 @@ public class AC {
 	 */
 	public void  setAckPolicy(Boolean ackPolicy) {
 		this.ackPolicy = ackPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -362,6 +390,7 @@ public class AC {
 	 */
 	public AC withAckPolicy(Boolean ackPolicy) {
 		this.ackPolicy = ackPolicy;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -376,6 +405,17 @@ public class AC {
 		return outQLenHistogramIntervals;
 	}
 
+	/**
+	 * Read the {{list}} Definition of the histogram intervals for counting the transmit queue length in packets. Each value indicates the maximum value of the interval. For example, "0,1,4,8," defines the five intervals: 0 packets in queue, 1 packet in queue, 2 to 4 packets in queue, 5 to 8 packets in queue, and 9 or more packets in queue. (No value after the last comma means no upper bound.) If this parameter is set to an empty string, no {{param|Stats.OutQLenHistogram}} stats will be collected.
+	 *
+	 * @since 2.8
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOutQLenHistogramIntervals() {
+		return outQLenHistogramIntervals == null ? Collections.emptyList() : outQLenHistogramIntervals;
+	}
+
 	/**
 	 * Set the {{list}} Definition of the histogram intervals for counting the transmit queue length in packets. Each value indicates the maximum value of the interval. For example, "0,1,4,8," defines the five intervals: 0 packets in queue, 1 packet in queue, 2 to 4 packets in queue, 5 to 8 packets in queue, and 9 or more packets in queue. (No value after the last comma means no upper bound.) If this parameter is set to an empty string, no {{param|Stats.OutQLenHistogram}} stats will be collected.
 	 *
@@ -384,6 +424,7 @@ public class AC {
 	 */
 	public void  setOutQLenHistogramIntervals(Collection<String> outQLenHistogramIntervals) {
 		this.outQLenHistogramIntervals = outQLenHistogramIntervals;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -395,6 +436,7 @@ public class AC {
 	 */
 	public AC withOutQLenHistogramIntervals(String string) {
 		getOutQLenHistogramIntervals().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -416,6 +458,7 @@ public class AC {
 	 */
 	public void  setOutQLenHistogramSampleInterval(Long outQLenHistogramSampleInterval) {
 		this.outQLenHistogramSampleInterval = outQLenHistogramSampleInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -427,6 +470,7 @@ public class AC {
 	 */
 	public AC withOutQLenHistogramSampleInterval(Long outQLenHistogramSampleInterval) {
 		this.outQLenHistogramSampleInterval = outQLenHistogramSampleInterval;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
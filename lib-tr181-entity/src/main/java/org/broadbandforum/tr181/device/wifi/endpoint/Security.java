@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.wifi.endpoint;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains security related parameters that apply to a WiFi end point {{bibref|802.11-2007}}.
@@ -45,6 +47,11 @@ public class Security {
 	@XmlList
 	public Collection<String> modesSupported;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Security() {
 	}
 
@@ -60,6 +67,17 @@ public class Security {
 		return modesSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates which security modes this {{object|#}} instance is capable of supporting.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewModesSupported() {
+		return modesSupported == null ? Collections.emptyList() : modesSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates which security modes this {{object|#}} instance is capable of supporting.
 	 *
@@ -68,6 +86,7 @@ public class Security {
 	 */
 	public void  setModesSupported(Collection<String> modesSupported) {
 		this.modesSupported = modesSupported;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -79,6 +98,7 @@ public class Security {
 	 */
 	public Security withModesSupported(String string) {
 		getModesSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
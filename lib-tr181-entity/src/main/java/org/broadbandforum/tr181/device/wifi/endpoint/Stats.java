@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Throughput statistics for this end point.
@@ -70,6 +71,11 @@ public class Stats {
 	@Size(min = 0, max = 100)
 	public Long retransmissions = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -92,6 +98,7 @@ public class Stats {
 	 */
 	public void  setLastDataDownlinkRate(Long lastDataDownlinkRate) {
 		this.lastDataDownlinkRate = lastDataDownlinkRate;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -103,6 +110,7 @@ public class Stats {
 	 */
 	public Stats withLastDataDownlinkRate(Long lastDataDownlinkRate) {
 		this.lastDataDownlinkRate = lastDataDownlinkRate;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -124,6 +132,7 @@ public class Stats {
 	 */
 	public void  setLastDataUplinkRate(Long lastDataUplinkRate) {
 		this.lastDataUplinkRate = lastDataUplinkRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -135,6 +144,7 @@ public class Stats {
 	 */
 	public Stats withLastDataUplinkRate(Long lastDataUplinkRate) {
 		this.lastDataUplinkRate = lastDataUplinkRate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -156,6 +166,7 @@ public class Stats {
 	 */
 	public void  setSignalStrength(Integer signalStrength) {
 		this.signalStrength = signalStrength;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -167,6 +178,7 @@ public class Stats {
 	 */
 	public Stats withSignalStrength(Integer signalStrength) {
 		this.signalStrength = signalStrength;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -188,6 +200,7 @@ public class Stats {
 	 */
 	public void  setRetransmissions(Long retransmissions) {
 		this.retransmissions = retransmissions;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -199,6 +212,7 @@ public class Stats {
 	 */
 	public Stats withRetransmissions(Long retransmissions) {
 		this.retransmissions = retransmissions;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains security related parameters that apply to a WiFi End Point profile {{bibref|802.11-2007}}.
@@ -79,6 +80,11 @@ public class Security {
 	@Size(min = 8, max = 63)
 	public String keyPassphrase;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Security() {
 	}
 
@@ -101,6 +107,7 @@ public class Security {
 	 */
 	public void  setModeEnabled(String modeEnabled) {
 		this.modeEnabled = modeEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +119,7 @@ public class Security {
 	 */
 	public Security withModeEnabled(String modeEnabled) {
 		this.modeEnabled = modeEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -141,6 +149,7 @@ public class Security {
 	 */
 	public void  setWepKey(byte[] wepKey) {
 		this.wepKey = wepKey;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -156,6 +165,7 @@ public class Security {
 	 */
 	public Security withWepKey(byte[] wepKey) {
 		this.wepKey = wepKey;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -185,6 +195,7 @@ public class Security {
 	 */
 	public void  setPreSharedKey(byte[] preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -200,6 +211,7 @@ public class Security {
 	 */
 	public Security withPreSharedKey(byte[] preSharedKey) {
 		this.preSharedKey = preSharedKey;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -225,6 +237,7 @@ public class Security {
 	 */
 	public void  setKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -238,6 +251,7 @@ public class Security {
 	 */
 	public Security withKeyPassphrase(String keyPassphrase) {
 		this.keyPassphrase = keyPassphrase;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.wifi.neighboringwifidiagnostic;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.MACAddress;
 
 	/**
@@ -186,6 +189,16 @@ Enumerated value must be one of [a, b, g, n, ac]
 	@XmlElement(name = "DTIMPeriod")
 	public Long dtiMPeriod;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Result() {
 	}
 
@@ -208,6 +221,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setRadio(String radio) {
 		this.radio = radio;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -219,6 +233,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withRadio(String radio) {
 		this.radio = radio;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -240,6 +255,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setSsiD(String ssiD) {
 		this.ssiD = ssiD;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -251,6 +267,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withSsiD(String ssiD) {
 		this.ssiD = ssiD;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -272,6 +289,8 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setBssID(MACAddress bssID) {
 		this.bssID = bssID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -283,6 +302,8 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withBssID(MACAddress bssID) {
 		this.bssID = bssID;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -304,6 +325,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setMode(String mode) {
 		this.mode = mode;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -315,6 +337,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withMode(String mode) {
 		this.mode = mode;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -336,6 +359,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setChannel(Long channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -347,6 +371,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withChannel(Long channel) {
 		this.channel = channel;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -368,6 +393,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setSignalStrength(Integer signalStrength) {
 		this.signalStrength = signalStrength;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -379,6 +405,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withSignalStrength(Integer signalStrength) {
 		this.signalStrength = signalStrength;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -400,6 +427,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setSecurityModeEnabled(String securityModeEnabled) {
 		this.securityModeEnabled = securityModeEnabled;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -411,6 +439,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withSecurityModeEnabled(String securityModeEnabled) {
 		this.securityModeEnabled = securityModeEnabled;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -425,6 +454,17 @@ Enumerated value must be one of [a, b, g, n, ac]
 		return encryptionMode;
 	}
 
+	/**
+	 * Read the type of encryption the neighboring WiFi SSID advertises.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEncryptionMode() {
+		return encryptionMode == null ? Collections.emptyList() : encryptionMode;
+	}
+
 	/**
 	 * Set the type of encryption the neighboring WiFi SSID advertises.
 	 *
@@ -433,6 +473,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setEncryptionMode(Collection<String> encryptionMode) {
 		this.encryptionMode = encryptionMode;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -444,6 +485,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withEncryptionMode(String string) {
 		getEncryptionMode().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -465,6 +507,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setOperatingFrequencyBand(String operatingFrequencyBand) {
 		this.operatingFrequencyBand = operatingFrequencyBand;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -476,6 +519,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withOperatingFrequencyBand(String operatingFrequencyBand) {
 		this.operatingFrequencyBand = operatingFrequencyBand;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -498,6 +542,25 @@ Enumerated value must be one of [a, b, g, n, ac]
 		return supportedStandards;
 	}
 
+	/**
+	 * Read the {{list}} List items indicate which IEEE 802.11 standards this {{object}} instance can support simultaneously, in the frequency band specified by {{param|OperatingFrequencyBand}}. 
+
+Enumerated value must be one of [a, b, g, n, ac]
+
+          Each value indicates support for the indicated standard.
+
+          If {{param|OperatingFrequencyBand}} is set to {{enum|2.4GHz|OperatingFrequencyBand}}, only values {{enum|b}}, {{enum|g}}, {{enum|n}} are allowed.
+
+          If {{param|OperatingFrequencyBand}} is set to {{enum|5GHz|OperatingFrequencyBand}}, only values {{enum|a}}, {{enum|n}}, {{enum|ac}} are allowed.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedStandards() {
+		return supportedStandards == null ? Collections.emptyList() : supportedStandards;
+	}
+
 	/**
 	 * Set the {{list}} List items indicate which IEEE 802.11 standards this {{object}} instance can support simultaneously, in the frequency band specified by {{param|OperatingFrequencyBand}}. 
 
@@ -514,6 +577,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setSupportedStandards(Collection<String> supportedStandards) {
 		this.supportedStandards = supportedStandards;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -533,6 +597,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withSupportedStandards(String string) {
 		getSupportedStandards().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -555,6 +620,25 @@ Enumerated value must be one of [a, b, g, n, ac]
 		return operatingStandards;
 	}
 
+	/**
+	 * Read the {{list}} List items indicate which IEEE 802.11 standard that is detected for this {{object}}.
+
+          Each value indicates support for the indicated standard.
+
+          If {{param|OperatingFrequencyBand}} is set to {{enum|2.4GHz|##.Radio.{i}.SupportedFrequencyBands}}, only values {{enum|b}}, {{enum|g}}, {{enum|n}} are allowed.
+
+          If {{param|OperatingFrequencyBand}} is set to {{enum|5GHz|##.Radio.{i}.SupportedFrequencyBands}}, only values {{enum|a}}, {{enum|n}}, {{enum|ac}} are allowed.
+
+          For example, a value of "g,b" (or "b,g" - order is not important) means that the 802.11g standard {{bibref|802.11g-2003}} is used with a backwards-compatible mode for 802.11b {{bibref|802.11b-1999}}. A value of "g" means that only the 802.11g standard can be used.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOperatingStandards() {
+		return operatingStandards == null ? Collections.emptyList() : operatingStandards;
+	}
+
 	/**
 	 * Set the {{list}} List items indicate which IEEE 802.11 standard that is detected for this {{object}}.
 
@@ -571,6 +655,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setOperatingStandards(Collection<String> operatingStandards) {
 		this.operatingStandards = operatingStandards;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -590,6 +675,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withOperatingStandards(String string) {
 		getOperatingStandards().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -611,6 +697,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setOperatingChannelBandwidth(String operatingChannelBandwidth) {
 		this.operatingChannelBandwidth = operatingChannelBandwidth;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -622,6 +709,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withOperatingChannelBandwidth(String operatingChannelBandwidth) {
 		this.operatingChannelBandwidth = operatingChannelBandwidth;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -643,6 +731,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setBeaconPeriod(Long beaconPeriod) {
 		this.beaconPeriod = beaconPeriod;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -654,6 +743,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withBeaconPeriod(Long beaconPeriod) {
 		this.beaconPeriod = beaconPeriod;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -675,6 +765,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setNoise(Integer noise) {
 		this.noise = noise;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -686,6 +777,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withNoise(Integer noise) {
 		this.noise = noise;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -700,6 +792,17 @@ Enumerated value must be one of [a, b, g, n, ac]
 		return basicDataTransferRates;
 	}
 
+	/**
+	 * Read the {{list}} Basic data transmit rates (in Mbps) for the SSID.  For example, if {{param}} is "1,2", this indicates that the SSID is operating with basic rates of 1 Mbps and 2 Mbps.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBasicDataTransferRates() {
+		return basicDataTransferRates == null ? Collections.emptyList() : basicDataTransferRates;
+	}
+
 	/**
 	 * Set the {{list}} Basic data transmit rates (in Mbps) for the SSID.  For example, if {{param}} is "1,2", this indicates that the SSID is operating with basic rates of 1 Mbps and 2 Mbps.
 	 *
@@ -708,6 +811,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setBasicDataTransferRates(Collection<String> basicDataTransferRates) {
 		this.basicDataTransferRates = basicDataTransferRates;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -719,6 +823,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withBasicDataTransferRates(String string) {
 		getBasicDataTransferRates().add(string);
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -733,6 +838,17 @@ Enumerated value must be one of [a, b, g, n, ac]
 		return supportedDataTransferRates;
 	}
 
+	/**
+	 * Read the {{list}} Data transmit rates (in Mbps) for unicast frames at which the SSID will permit a station to connect. For example, if {{param}} is "1,2,5.5", this indicates that the SSID will only permit connections at 1 Mbps, 2 Mbps and 5.5 Mbps.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedDataTransferRates() {
+		return supportedDataTransferRates == null ? Collections.emptyList() : supportedDataTransferRates;
+	}
+
 	/**
 	 * Set the {{list}} Data transmit rates (in Mbps) for unicast frames at which the SSID will permit a station to connect. For example, if {{param}} is "1,2,5.5", this indicates that the SSID will only permit connections at 1 Mbps, 2 Mbps and 5.5 Mbps.
 	 *
@@ -741,6 +857,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setSupportedDataTransferRates(Collection<String> supportedDataTransferRates) {
 		this.supportedDataTransferRates = supportedDataTransferRates;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -752,6 +869,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withSupportedDataTransferRates(String string) {
 		getSupportedDataTransferRates().add(string);
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -773,6 +891,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public void  setDtiMPeriod(Long dtiMPeriod) {
 		this.dtiMPeriod = dtiMPeriod;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -784,6 +903,7 @@ Enumerated value must be one of [a, b, g, n, ac]
 	 */
 	public Result withDtiMPeriod(Long dtiMPeriod) {
 		this.dtiMPeriod = dtiMPeriod;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Throughput statistics for this interface. Packet counters here count 802.11 WiFi frames. See {{bibref|TR-181i2a5|Appendix III}} for further details. The CPE MUST reset the interface's Stats parameters (unless otherwise stated in individual object or parameter descriptions) either when the interface becomes operationally down due to a previous administrative down (i.e. the interface's {{param|#.Status}} parameter transitions to a down state after the interface is disabled) or when the interface becomes administratively up (i.e. the interface's {{param|#.Enable}} parameter transitions from {{false}} to {{true}}). Administrative and operational interface status is discussed in {{bibref|TR-181i2a5|Section 4.2.2}}.
@@ -134,6 +135,11 @@ public class Stats {
 	@XmlElement(name = "Noise")
 	public Integer noise;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -156,6 +162,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -167,6 +174,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -188,6 +196,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -199,6 +208,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -220,6 +230,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -231,6 +242,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -252,6 +264,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -263,6 +276,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -284,6 +298,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -295,6 +310,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -316,6 +332,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -327,6 +344,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -348,6 +366,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -359,6 +378,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -380,6 +400,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -391,6 +412,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -412,6 +434,7 @@ public class Stats {
 	 */
 	public void  setPlcPErrorCount(Long plcPErrorCount) {
 		this.plcPErrorCount = plcPErrorCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -423,6 +446,7 @@ public class Stats {
 	 */
 	public Stats withPlcPErrorCount(Long plcPErrorCount) {
 		this.plcPErrorCount = plcPErrorCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -444,6 +468,7 @@ public class Stats {
 	 */
 	public void  setFcsErrorCount(Long fcsErrorCount) {
 		this.fcsErrorCount = fcsErrorCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -455,6 +480,7 @@ public class Stats {
 	 */
 	public Stats withFcsErrorCount(Long fcsErrorCount) {
 		this.fcsErrorCount = fcsErrorCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -476,6 +502,7 @@ public class Stats {
 	 */
 	public void  setInvalidMACCount(Long invalidMACCount) {
 		this.invalidMACCount = invalidMACCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -487,6 +514,7 @@ public class Stats {
 	 */
 	public Stats withInvalidMACCount(Long invalidMACCount) {
 		this.invalidMACCount = invalidMACCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -508,6 +536,7 @@ public class Stats {
 	 */
 	public void  setPacketsOtherReceived(Long packetsOtherReceived) {
 		this.packetsOtherReceived = packetsOtherReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -519,6 +548,7 @@ public class Stats {
 	 */
 	public Stats withPacketsOtherReceived(Long packetsOtherReceived) {
 		this.packetsOtherReceived = packetsOtherReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -540,6 +570,7 @@ public class Stats {
 	 */
 	public void  setNoise(Integer noise) {
 		this.noise = noise;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -551,6 +582,7 @@ public class Stats {
 	 */
 	public Stats withNoise(Integer noise) {
 		this.noise = noise;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Throughput statistics for this interface. Packet counters here count 802.11 WiFi frames. See {{bibref|TR-181i2a5|Appendix III}} for further details. The CPE MUST reset the interface's Stats parameters (unless otherwise stated in individual object or parameter descriptions) either when the interface becomes operationally down due to a previous administrative down (i.e. the interface's {{param|#.Status}} parameter transitions to a down state after the interface is disabled) or when the interface becomes administratively up (i.e. the interface's {{param|#.Enable}} parameter transitions from {{false}} to {{true}}). Administrative and operational interface status is discussed in {{bibref|TR-181i2a5|Section 4.2.2}}.
@@ -196,6 +197,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long unknownProtoPacketsReceived;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -218,6 +224,7 @@ public class Stats {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -229,6 +236,7 @@ public class Stats {
 	 */
 	public Stats withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -250,6 +258,7 @@ public class Stats {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -261,6 +270,7 @@ public class Stats {
 	 */
 	public Stats withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -282,6 +292,7 @@ public class Stats {
 	 */
 	public void  setPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -293,6 +304,7 @@ public class Stats {
 	 */
 	public Stats withPacketsSent(Long packetsSent) {
 		this.packetsSent = packetsSent;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -314,6 +326,7 @@ public class Stats {
 	 */
 	public void  setPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -325,6 +338,7 @@ public class Stats {
 	 */
 	public Stats withPacketsReceived(Long packetsReceived) {
 		this.packetsReceived = packetsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -346,6 +360,7 @@ public class Stats {
 	 */
 	public void  setErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -357,6 +372,7 @@ public class Stats {
 	 */
 	public Stats withErrorsSent(Long errorsSent) {
 		this.errorsSent = errorsSent;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -378,6 +394,7 @@ public class Stats {
 	 */
 	public void  setRetransCount(Long retransCount) {
 		this.retransCount = retransCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -389,6 +406,7 @@ public class Stats {
 	 */
 	public Stats withRetransCount(Long retransCount) {
 		this.retransCount = retransCount;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -410,6 +428,7 @@ public class Stats {
 	 */
 	public void  setFailedRetransCount(Long failedRetransCount) {
 		this.failedRetransCount = failedRetransCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -421,6 +440,7 @@ public class Stats {
 	 */
 	public Stats withFailedRetransCount(Long failedRetransCount) {
 		this.failedRetransCount = failedRetransCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -442,6 +462,7 @@ public class Stats {
 	 */
 	public void  setRetryCount(Long retryCount) {
 		this.retryCount = retryCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -453,6 +474,7 @@ public class Stats {
 	 */
 	public Stats withRetryCount(Long retryCount) {
 		this.retryCount = retryCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -474,6 +496,7 @@ public class Stats {
 	 */
 	public void  setMultipleRetryCount(Long multipleRetryCount) {
 		this.multipleRetryCount = multipleRetryCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -485,6 +508,7 @@ public class Stats {
 	 */
 	public Stats withMultipleRetryCount(Long multipleRetryCount) {
 		this.multipleRetryCount = multipleRetryCount;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -506,6 +530,7 @@ public class Stats {
 	 */
 	public void  setAckFailureCount(Long ackFailureCount) {
 		this.ackFailureCount = ackFailureCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -517,6 +542,7 @@ public class Stats {
 	 */
 	public Stats withAckFailureCount(Long ackFailureCount) {
 		this.ackFailureCount = ackFailureCount;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -538,6 +564,7 @@ public class Stats {
 	 */
 	public void  setAggregatedPacketCount(Long aggregatedPacketCount) {
 		this.aggregatedPacketCount = aggregatedPacketCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -549,6 +576,7 @@ public class Stats {
 	 */
 	public Stats withAggregatedPacketCount(Long aggregatedPacketCount) {
 		this.aggregatedPacketCount = aggregatedPacketCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -570,6 +598,7 @@ public class Stats {
 	 */
 	public void  setErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -581,6 +610,7 @@ public class Stats {
 	 */
 	public Stats withErrorsReceived(Long errorsReceived) {
 		this.errorsReceived = errorsReceived;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -602,6 +632,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -613,6 +644,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsSent(Long unicastPacketsSent) {
 		this.unicastPacketsSent = unicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -634,6 +666,7 @@ public class Stats {
 	 */
 	public void  setUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -645,6 +678,7 @@ public class Stats {
 	 */
 	public Stats withUnicastPacketsReceived(Long unicastPacketsReceived) {
 		this.unicastPacketsReceived = unicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -666,6 +700,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -677,6 +712,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsSent(Long discardPacketsSent) {
 		this.discardPacketsSent = discardPacketsSent;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -698,6 +734,7 @@ public class Stats {
 	 */
 	public void  setDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -709,6 +746,7 @@ public class Stats {
 	 */
 	public Stats withDiscardPacketsReceived(Long discardPacketsReceived) {
 		this.discardPacketsReceived = discardPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -730,6 +768,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -741,6 +780,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsSent(Long multicastPacketsSent) {
 		this.multicastPacketsSent = multicastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -762,6 +802,7 @@ public class Stats {
 	 */
 	public void  setMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -773,6 +814,7 @@ public class Stats {
 	 */
 	public Stats withMulticastPacketsReceived(Long multicastPacketsReceived) {
 		this.multicastPacketsReceived = multicastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -794,6 +836,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -805,6 +848,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsSent(Long broadcastPacketsSent) {
 		this.broadcastPacketsSent = broadcastPacketsSent;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -826,6 +870,7 @@ public class Stats {
 	 */
 	public void  setBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -837,6 +882,7 @@ public class Stats {
 	 */
 	public Stats withBroadcastPacketsReceived(Long broadcastPacketsReceived) {
 		this.broadcastPacketsReceived = broadcastPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -858,6 +904,7 @@ public class Stats {
 	 */
 	public void  setUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -869,6 +916,7 @@ public class Stats {
 	 */
 	public Stats withUnknownProtoPacketsReceived(Long unknownProtoPacketsReceived) {
 		this.unknownProtoPacketsReceived = unknownProtoPacketsReceived;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -16,8 +16,8 @@
 package org.broadbandforum.tr181.device.xmpp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,10 +25,14 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr181.device.xmpp.connection.Server;
 import org.broadbandforum.tr181.device.xmpp.connection.Stats;
 
@@ -124,6 +128,7 @@ public class Connection {
 	 * @since 2.7
 	 */
 	@XmlElement(name = "LastChangeDate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastChangeDate;
 	/**
 	 * The algorithm the {{object}} uses when connecting with the associated lists of servers. {{enum}}
@@ -237,6 +242,16 @@ public class Connection {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Connection() {
 	}
 
@@ -263,6 +278,7 @@ public class Connection {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -276,6 +292,7 @@ public class Connection {
 	 */
 	public Connection withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -297,6 +314,8 @@ public class Connection {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -308,6 +327,8 @@ public class Connection {
 	 */
 	public Connection withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -329,6 +350,8 @@ public class Connection {
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -340,6 +363,8 @@ public class Connection {
 	 */
 	public Connection withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -365,6 +390,7 @@ public class Connection {
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -378,6 +404,7 @@ public class Connection {
 	 */
 	public Connection withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -399,6 +426,8 @@ public class Connection {
 	 */
 	public void  setDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -410,6 +439,8 @@ public class Connection {
 	 */
 	public Connection withDomain(String domain) {
 		this.domain = domain;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -431,6 +462,8 @@ public class Connection {
 	 */
 	public void  setResource(String resource) {
 		this.resource = resource;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -442,6 +475,8 @@ public class Connection {
 	 */
 	public Connection withResource(String resource) {
 		this.resource = resource;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -463,6 +498,7 @@ public class Connection {
 	 */
 	public void  setJabberID(String jabberID) {
 		this.jabberID = jabberID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -474,6 +510,7 @@ public class Connection {
 	 */
 	public Connection withJabberID(String jabberID) {
 		this.jabberID = jabberID;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -503,6 +540,7 @@ public class Connection {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -518,6 +556,7 @@ public class Connection {
 	 */
 	public Connection withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -539,6 +578,7 @@ public class Connection {
 	 */
 	public void  setLastChangeDate(LocalDateTime lastChangeDate) {
 		this.lastChangeDate = lastChangeDate;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -550,6 +590,7 @@ public class Connection {
 	 */
 	public Connection withLastChangeDate(LocalDateTime lastChangeDate) {
 		this.lastChangeDate = lastChangeDate;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -571,6 +612,7 @@ public class Connection {
 	 */
 	public void  setServerConnectAlgorithm(String serverConnectAlgorithm) {
 		this.serverConnectAlgorithm = serverConnectAlgorithm;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -582,6 +624,7 @@ public class Connection {
 	 */
 	public Connection withServerConnectAlgorithm(String serverConnectAlgorithm) {
 		this.serverConnectAlgorithm = serverConnectAlgorithm;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -611,6 +654,7 @@ public class Connection {
 	 */
 	public void  setKeepAliveInterval(Long keepAliveInterval) {
 		this.keepAliveInterval = keepAliveInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -626,6 +670,7 @@ public class Connection {
 	 */
 	public Connection withKeepAliveInterval(Long keepAliveInterval) {
 		this.keepAliveInterval = keepAliveInterval;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -659,6 +704,7 @@ public class Connection {
 	 */
 	public void  setServerConnectAttempts(Long serverConnectAttempts) {
 		this.serverConnectAttempts = serverConnectAttempts;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -676,6 +722,7 @@ public class Connection {
 	 */
 	public Connection withServerConnectAttempts(Long serverConnectAttempts) {
 		this.serverConnectAttempts = serverConnectAttempts;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -705,6 +752,7 @@ public class Connection {
 	 */
 	public void  setServerRetryInitialInterval(Long serverRetryInitialInterval) {
 		this.serverRetryInitialInterval = serverRetryInitialInterval;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -720,6 +768,7 @@ public class Connection {
 	 */
 	public Connection withServerRetryInitialInterval(Long serverRetryInitialInterval) {
 		this.serverRetryInitialInterval = serverRetryInitialInterval;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -749,6 +798,7 @@ public class Connection {
 	 */
 	public void  setServerRetryIntervalMultiplier(Long serverRetryIntervalMultiplier) {
 		this.serverRetryIntervalMultiplier = serverRetryIntervalMultiplier;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -764,6 +814,7 @@ public class Connection {
 	 */
 	public Connection withServerRetryIntervalMultiplier(Long serverRetryIntervalMultiplier) {
 		this.serverRetryIntervalMultiplier = serverRetryIntervalMultiplier;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -793,6 +844,7 @@ public class Connection {
 	 */
 	public void  setServerRetryMaxInterval(Long serverRetryMaxInterval) {
 		this.serverRetryMaxInterval = serverRetryMaxInterval;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -808,6 +860,7 @@ public class Connection {
 	 */
 	public Connection withServerRetryMaxInterval(Long serverRetryMaxInterval) {
 		this.serverRetryMaxInterval = serverRetryMaxInterval;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -837,6 +890,7 @@ public class Connection {
 	 */
 	public void  setUseTLS(Boolean useTLS) {
 		this.useTLS = useTLS;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -852,6 +906,7 @@ public class Connection {
 	 */
 	public Connection withUseTLS(Boolean useTLS) {
 		this.useTLS = useTLS;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -881,6 +936,7 @@ public class Connection {
 	 */
 	public void  setTlsEstablished(Boolean tlsEstablished) {
 		this.tlsEstablished = tlsEstablished;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -896,6 +952,7 @@ public class Connection {
 	 */
 	public Connection withTlsEstablished(Boolean tlsEstablished) {
 		this.tlsEstablished = tlsEstablished;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -907,10 +964,22 @@ public class Connection {
 	 * @return the value
 	 */
 	public Collection<Server> getServers() {
-		if (this.servers == null){ this.servers=new ArrayList<>();}
+		if (!(this.servers instanceof InstanceTable)){ this.servers=InstanceTable.of(this.servers);}
 		return servers;
 	}
 
+	/**
+	 * Read the {{object}} represents an XMPP server to be used for a {{object|##.Connection}}.
+
+        This table is only relevant when {{param|##.Connection.{i}.ServerConnectAlgorithm}} is set to {{enum|ServerTable|##.Connection.{i}.ServerConnectAlgorithm}}.  If {{param|##.Connection.{i}.ServerConnectAlgorithm}} is set to {{enum|DNS-SRV|##.Connection.{i}.ServerConnectAlgorithm}} then any instances of this table are ignored by this {{object|##.Connection}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Server> viewServers() {
+		return servers == null ? Collections.emptyList() : servers;
+	}
+
 	/**
 	 * Set the {{object}} represents an XMPP server to be used for a {{object|##.Connection}}.
 
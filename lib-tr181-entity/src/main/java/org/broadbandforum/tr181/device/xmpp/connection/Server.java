@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The {{object}} represents an XMPP server to be used for a {{object|##.Connection}}.
@@ -97,6 +99,16 @@ public class Server {
 	@Size(min = 0, max = 65535)
 	public Long port = 5222L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Server() {
 	}
 
@@ -123,6 +135,7 @@ public class Server {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +149,7 @@ public class Server {
 	 */
 	public Server withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -157,6 +171,8 @@ public class Server {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -168,6 +184,8 @@ public class Server {
 	 */
 	public Server withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -189,6 +207,7 @@ public class Server {
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -200,6 +219,7 @@ public class Server {
 	 */
 	public Server withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -221,6 +241,7 @@ public class Server {
 	 */
 	public void  setWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -232,6 +253,7 @@ public class Server {
 	 */
 	public Server withWeight(Long weight) {
 		this.weight = weight;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -257,6 +279,8 @@ public class Server {
 	 */
 	public void  setServerAddress(String serverAddress) {
 		this.serverAddress = serverAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -270,6 +294,8 @@ public class Server {
 	 */
 	public Server withServerAddress(String serverAddress) {
 		this.serverAddress = serverAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -291,6 +317,8 @@ public class Server {
 	 */
 	public void  setPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -302,6 +330,8 @@ public class Server {
 	 */
 	public Server withPort(Long port) {
 		this.port = port;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
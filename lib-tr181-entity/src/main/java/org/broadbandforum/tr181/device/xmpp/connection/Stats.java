@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * XMPP Connection statistics information for this resource.
@@ -62,6 +63,11 @@ public class Stats {
 	@XmlElement(name = "TransmittedErrorMessages")
 	public Long transmittedErrorMessages = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -84,6 +90,7 @@ public class Stats {
 	 */
 	public void  setReceivedMessages(Long receivedMessages) {
 		this.receivedMessages = receivedMessages;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ public class Stats {
 	 */
 	public Stats withReceivedMessages(Long receivedMessages) {
 		this.receivedMessages = receivedMessages;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class Stats {
 	 */
 	public void  setTransmittedMessages(Long transmittedMessages) {
 		this.transmittedMessages = transmittedMessages;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedMessages(Long transmittedMessages) {
 		this.transmittedMessages = transmittedMessages;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class Stats {
 	 */
 	public void  setReceivedErrorMessages(Long receivedErrorMessages) {
 		this.receivedErrorMessages = receivedErrorMessages;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -159,6 +170,7 @@ public class Stats {
 	 */
 	public Stats withReceivedErrorMessages(Long receivedErrorMessages) {
 		this.receivedErrorMessages = receivedErrorMessages;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -180,6 +192,7 @@ public class Stats {
 	 */
 	public void  setTransmittedErrorMessages(Long transmittedErrorMessages) {
 		this.transmittedErrorMessages = transmittedErrorMessages;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -191,6 +204,7 @@ public class Stats {
 	 */
 	public Stats withTransmittedErrorMessages(Long transmittedErrorMessages) {
 		this.transmittedErrorMessages = transmittedErrorMessages;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.zigbee;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.zigbee.discovery.AreaNetwork;
 
 	/**
@@ -60,10 +61,22 @@ public class Discovery {
 	 * @return the value
 	 */
 	public Collection<AreaNetwork> getAreaNetworks() {
-		if (this.areaNetworks == null){ this.areaNetworks=new ArrayList<>();}
+		if (!(this.areaNetworks instanceof InstanceTable)){ this.areaNetworks=InstanceTable.of(this.areaNetworks);}
 		return areaNetworks;
 	}
 
+	/**
+	 * Read the this object specifies the ZigBee devices that are discovered by the {{param|Coordinator}}.
+
+        As the ZigBee specification does not provide a discovery protocol between the CWMP proxy and the ZigBee coordinator, the {{object}} object is provisioned and not discovered.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<AreaNetwork> viewAreaNetworks() {
+		return areaNetworks == null ? Collections.emptyList() : areaNetworks;
+	}
+
 	/**
 	 * Set the this object specifies the ZigBee devices that are discovered by the {{param|Coordinator}}.
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.zigbee;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,7 +27,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IEEE_EUI64;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.ZigBeeNetworkAddress;
 import org.broadbandforum.tr181.device.zigbee.zdo.ApplicationEndpoint;
 import org.broadbandforum.tr181.device.zigbee.zdo.Binding;
@@ -134,6 +136,16 @@ public class ZDO {
 	@CWMPParameter(access = "readWrite")
 	public Collection<ApplicationEndpoint> applicationEndpoints;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ZDO() {
 	}
 
@@ -156,6 +168,7 @@ public class ZDO {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -167,6 +180,7 @@ public class ZDO {
 	 */
 	public ZDO withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -188,6 +202,8 @@ public class ZDO {
 	 */
 	public void  setIeeEAddress(IEEE_EUI64 ieeEAddress) {
 		this.ieeEAddress = ieeEAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -199,6 +215,8 @@ public class ZDO {
 	 */
 	public ZDO withIeeEAddress(IEEE_EUI64 ieeEAddress) {
 		this.ieeEAddress = ieeEAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -220,6 +238,8 @@ public class ZDO {
 	 */
 	public void  setNetworkAddress(ZigBeeNetworkAddress networkAddress) {
 		this.networkAddress = networkAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -231,6 +251,8 @@ public class ZDO {
 	 */
 	public ZDO withNetworkAddress(ZigBeeNetworkAddress networkAddress) {
 		this.networkAddress = networkAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -443,10 +465,20 @@ public class ZDO {
 	 * @return the value
 	 */
 	public Collection<Binding> getBindings() {
-		if (this.bindings == null){ this.bindings=new ArrayList<>();}
+		if (!(this.bindings instanceof InstanceTable)){ this.bindings=InstanceTable.of(this.bindings);}
 		return bindings;
 	}
 
+	/**
+	 * Read the {{object}} object describes the configuration capabilities related to maintaining a ZigBee Device's Binding Table as defined in {{bibref|ZigBee2007|section 2.2.8.2 Binding}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Binding> viewBindings() {
+		return bindings == null ? Collections.emptyList() : bindings;
+	}
+
 	/**
 	 * Set the {{object}} object describes the configuration capabilities related to maintaining a ZigBee Device's Binding Table as defined in {{bibref|ZigBee2007|section 2.2.8.2 Binding}}.
 	 *
@@ -473,10 +505,20 @@ public class ZDO {
 	 * @return the value
 	 */
 	public Collection<Group> getGroups() {
-		if (this.groups == null){ this.groups=new ArrayList<>();}
+		if (!(this.groups instanceof InstanceTable)){ this.groups=InstanceTable.of(this.groups);}
 		return groups;
 	}
 
+	/**
+	 * Read the {{object}} object describes the configuration capabilities related to maintaining a ZigBee Device's Group Table as defined in {{bibref|ZigBee2007|section 2.5.2.7 Group Manager}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Group> viewGroups() {
+		return groups == null ? Collections.emptyList() : groups;
+	}
+
 	/**
 	 * Set the {{object}} object describes the configuration capabilities related to maintaining a ZigBee Device's Group Table as defined in {{bibref|ZigBee2007|section 2.5.2.7 Group Manager}}.
 	 *
@@ -503,10 +545,20 @@ public class ZDO {
 	 * @return the value
 	 */
 	public Collection<ApplicationEndpoint> getApplicationEndpoints() {
-		if (this.applicationEndpoints == null){ this.applicationEndpoints=new ArrayList<>();}
+		if (!(this.applicationEndpoints instanceof InstanceTable)){ this.applicationEndpoints=InstanceTable.of(this.applicationEndpoints);}
 		return applicationEndpoints;
 	}
 
+	/**
+	 * Read the {{object}} object describes the application endpoint as defined in {{bibref|ZigBee2007|section 2.1.2 Application Framework}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ApplicationEndpoint> viewApplicationEndpoints() {
+		return applicationEndpoints == null ? Collections.emptyList() : applicationEndpoints;
+	}
+
 	/**
 	 * Set the {{object}} object describes the application endpoint as defined in {{bibref|ZigBee2007|section 2.1.2 Application Framework}}.
 	 *
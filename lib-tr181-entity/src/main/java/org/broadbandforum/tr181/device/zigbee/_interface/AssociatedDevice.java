@@ -23,7 +23,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IEEE_EUI64;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.ZigBeeNetworkAddress;
 
 	/**
@@ -73,6 +75,16 @@ public class AssociatedDevice {
 	@Size(max = 256)
 	public String zdoReference;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AssociatedDevice() {
 	}
 
@@ -95,6 +107,8 @@ public class AssociatedDevice {
 	 */
 	public void  setIeeEAddress(IEEE_EUI64 ieeEAddress) {
 		this.ieeEAddress = ieeEAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -106,6 +120,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withIeeEAddress(IEEE_EUI64 ieeEAddress) {
 		this.ieeEAddress = ieeEAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -127,6 +143,8 @@ public class AssociatedDevice {
 	 */
 	public void  setNetworkAddress(ZigBeeNetworkAddress networkAddress) {
 		this.networkAddress = networkAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -138,6 +156,8 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withNetworkAddress(ZigBeeNetworkAddress networkAddress) {
 		this.networkAddress = networkAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -163,6 +183,7 @@ public class AssociatedDevice {
 	 */
 	public void  setActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +197,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withActive(Boolean active) {
 		this.active = active;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -197,6 +219,7 @@ public class AssociatedDevice {
 	 */
 	public void  setZdoReference(String zdoReference) {
 		this.zdoReference = zdoReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -208,6 +231,7 @@ public class AssociatedDevice {
 	 */
 	public AssociatedDevice withZdoReference(String zdoReference) {
 		this.zdoReference = zdoReference;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr181.device.zigbee.discovery;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,10 +26,14 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object specifies the ZigBee devices that are discovered by the {{param|Coordinator}}.
@@ -58,6 +63,7 @@ public class AreaNetwork {
 	 * @since 2.7
 	 */
 	@XmlElement(name = "LastUpdate")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastUpdate;
 	/**
 	 * The status of the current discovery operation.
@@ -106,6 +112,16 @@ public class AreaNetwork {
 	@XmlList
 	public Collection<String> zdoList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public AreaNetwork() {
 	}
 
@@ -128,6 +144,7 @@ public class AreaNetwork {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -139,6 +156,7 @@ public class AreaNetwork {
 	 */
 	public AreaNetwork withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -160,6 +178,7 @@ public class AreaNetwork {
 	 */
 	public void  setLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -171,6 +190,7 @@ public class AreaNetwork {
 	 */
 	public AreaNetwork withLastUpdate(LocalDateTime lastUpdate) {
 		this.lastUpdate = lastUpdate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -196,6 +216,7 @@ public class AreaNetwork {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -209,6 +230,7 @@ public class AreaNetwork {
 	 */
 	public AreaNetwork withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -230,6 +252,8 @@ public class AreaNetwork {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -241,6 +265,8 @@ public class AreaNetwork {
 	 */
 	public AreaNetwork withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -262,6 +288,8 @@ public class AreaNetwork {
 	 */
 	public void  setCoordinator(String coordinator) {
 		this.coordinator = coordinator;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -273,6 +301,8 @@ public class AreaNetwork {
 	 */
 	public AreaNetwork withCoordinator(String coordinator) {
 		this.coordinator = coordinator;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -298,6 +328,7 @@ public class AreaNetwork {
 	 */
 	public void  setZdoReference(String zdoReference) {
 		this.zdoReference = zdoReference;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -311,6 +342,7 @@ public class AreaNetwork {
 	 */
 	public AreaNetwork withZdoReference(String zdoReference) {
 		this.zdoReference = zdoReference;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -327,6 +359,19 @@ public class AreaNetwork {
 		return zdoList;
 	}
 
+	/**
+	 * Read the list of ZDO objects discovered in this Area Network by the ZigBee Coordinator.
+
+          {{reference}}
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewZdoList() {
+		return zdoList == null ? Collections.emptyList() : zdoList;
+	}
+
 	/**
 	 * Set the list of ZDO objects discovered in this Area Network by the ZigBee Coordinator.
 
@@ -337,6 +382,7 @@ public class AreaNetwork {
 	 */
 	public void  setZdoList(Collection<String> zdoList) {
 		this.zdoList = zdoList;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -350,6 +396,7 @@ public class AreaNetwork {
 	 */
 	public AreaNetwork withZdoList(String string) {
 		getZdoList().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.zigbee.zdo.applicationendpoint.SimpleDescriptor;
 
 	/**
@@ -72,6 +74,16 @@ public class ApplicationEndpoint {
 	@XmlElement(name = "SimpleDescriptor")
 	public SimpleDescriptor simpleDescriptor;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ApplicationEndpoint() {
 	}
 
@@ -94,6 +106,7 @@ public class ApplicationEndpoint {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -105,6 +118,7 @@ public class ApplicationEndpoint {
 	 */
 	public ApplicationEndpoint withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -126,6 +140,8 @@ public class ApplicationEndpoint {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -137,6 +153,8 @@ public class ApplicationEndpoint {
 	 */
 	public ApplicationEndpoint withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -162,6 +180,8 @@ public class ApplicationEndpoint {
 	 */
 	public void  setEndpointId(Long endpointId) {
 		this.endpointId = endpointId;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -175,6 +195,8 @@ public class ApplicationEndpoint {
 	 */
 	public ApplicationEndpoint withEndpointId(Long endpointId) {
 		this.endpointId = endpointId;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IEEE_EUI64;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.ZigBeeNetworkAddress;
 
 	/**
@@ -115,6 +117,16 @@ public class Binding {
 	@CWMPParameter(access = "readWrite")
 	public ZigBeeNetworkAddress groupDestinationAddress;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Binding() {
 	}
 
@@ -137,6 +149,7 @@ public class Binding {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -148,6 +161,7 @@ public class Binding {
 	 */
 	public Binding withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -169,6 +183,8 @@ public class Binding {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -180,6 +196,8 @@ public class Binding {
 	 */
 	public Binding withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -201,6 +219,7 @@ public class Binding {
 	 */
 	public void  setSourceEndpoint(Long sourceEndpoint) {
 		this.sourceEndpoint = sourceEndpoint;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -212,6 +231,7 @@ public class Binding {
 	 */
 	public Binding withSourceEndpoint(Long sourceEndpoint) {
 		this.sourceEndpoint = sourceEndpoint;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -233,6 +253,7 @@ public class Binding {
 	 */
 	public void  setSourceAddress(IEEE_EUI64 sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -244,6 +265,7 @@ public class Binding {
 	 */
 	public Binding withSourceAddress(IEEE_EUI64 sourceAddress) {
 		this.sourceAddress = sourceAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -265,6 +287,7 @@ public class Binding {
 	 */
 	public void  setClusterId(Long clusterId) {
 		this.clusterId = clusterId;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -276,6 +299,7 @@ public class Binding {
 	 */
 	public Binding withClusterId(Long clusterId) {
 		this.clusterId = clusterId;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -297,6 +321,7 @@ public class Binding {
 	 */
 	public void  setDestinationAddressMode(String destinationAddressMode) {
 		this.destinationAddressMode = destinationAddressMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -308,6 +333,7 @@ public class Binding {
 	 */
 	public Binding withDestinationAddressMode(String destinationAddressMode) {
 		this.destinationAddressMode = destinationAddressMode;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -329,6 +355,7 @@ public class Binding {
 	 */
 	public void  setDestinationEndpoint(Long destinationEndpoint) {
 		this.destinationEndpoint = destinationEndpoint;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -340,6 +367,7 @@ public class Binding {
 	 */
 	public Binding withDestinationEndpoint(Long destinationEndpoint) {
 		this.destinationEndpoint = destinationEndpoint;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -361,6 +389,7 @@ public class Binding {
 	 */
 	public void  setIeeEDestinationAddress(IEEE_EUI64 ieeEDestinationAddress) {
 		this.ieeEDestinationAddress = ieeEDestinationAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -372,6 +401,7 @@ public class Binding {
 	 */
 	public Binding withIeeEDestinationAddress(IEEE_EUI64 ieeEDestinationAddress) {
 		this.ieeEDestinationAddress = ieeEDestinationAddress;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -393,6 +423,7 @@ public class Binding {
 	 */
 	public void  setGroupDestinationAddress(ZigBeeNetworkAddress groupDestinationAddress) {
 		this.groupDestinationAddress = groupDestinationAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -404,6 +435,7 @@ public class Binding {
 	 */
 	public Binding withGroupDestinationAddress(ZigBeeNetworkAddress groupDestinationAddress) {
 		this.groupDestinationAddress = groupDestinationAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The {{object}} object is an optional descriptor that describes extended capabilities of the ZigBee device as defined in {{bibref|ZigBee2007|section 2.3.2.6 Complex Descriptor}}.
@@ -97,6 +98,11 @@ public class ComplexDescriptor {
 	@XmlElement(name = "IconURL")
 	public String iconURL;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ComplexDescriptor() {
 	}
 
@@ -119,6 +125,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setDescriptorAvailable(Boolean descriptorAvailable) {
 		this.descriptorAvailable = descriptorAvailable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -130,6 +137,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withDescriptorAvailable(Boolean descriptorAvailable) {
 		this.descriptorAvailable = descriptorAvailable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -151,6 +159,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setLanguage(String language) {
 		this.language = language;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -162,6 +171,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withLanguage(String language) {
 		this.language = language;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -183,6 +193,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setCharacterSet(String characterSet) {
 		this.characterSet = characterSet;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -194,6 +205,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withCharacterSet(String characterSet) {
 		this.characterSet = characterSet;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -215,6 +227,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setManufacturerName(String manufacturerName) {
 		this.manufacturerName = manufacturerName;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -226,6 +239,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withManufacturerName(String manufacturerName) {
 		this.manufacturerName = manufacturerName;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -247,6 +261,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -258,6 +273,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withModelName(String modelName) {
 		this.modelName = modelName;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -279,6 +295,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -290,6 +307,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withSerialNumber(String serialNumber) {
 		this.serialNumber = serialNumber;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -311,6 +329,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setDeviceURL(String deviceURL) {
 		this.deviceURL = deviceURL;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -322,6 +341,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withDeviceURL(String deviceURL) {
 		this.deviceURL = deviceURL;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -343,6 +363,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setIcon(byte[] icon) {
 		this.icon = icon;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -354,6 +375,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withIcon(byte[] icon) {
 		this.icon = icon;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -375,6 +397,7 @@ public class ComplexDescriptor {
 	 */
 	public void  setIconURL(String iconURL) {
 		this.iconURL = iconURL;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -386,6 +409,7 @@ public class ComplexDescriptor {
 	 */
 	public ComplexDescriptor withIconURL(String iconURL) {
 		this.iconURL = iconURL;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
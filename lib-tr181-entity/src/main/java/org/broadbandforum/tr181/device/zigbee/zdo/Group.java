@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.zigbee.zdo;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -27,6 +28,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.ZigBeeNetworkAddress;
 
 	/**
@@ -75,6 +78,16 @@ public class Group {
 	@XmlList
 	public Collection<String> endpointList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Group() {
 	}
 
@@ -97,6 +110,7 @@ public class Group {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +122,7 @@ public class Group {
 	 */
 	public Group withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -129,6 +144,8 @@ public class Group {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -140,6 +157,8 @@ public class Group {
 	 */
 	public Group withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -161,6 +180,8 @@ public class Group {
 	 */
 	public void  setGroupId(ZigBeeNetworkAddress groupId) {
 		this.groupId = groupId;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -172,6 +193,8 @@ public class Group {
 	 */
 	public Group withGroupId(ZigBeeNetworkAddress groupId) {
 		this.groupId = groupId;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -186,6 +209,17 @@ public class Group {
 		return endpointList;
 	}
 
+	/**
+	 * Read the list of application endpoints assigned as a member of this {{object}} object.
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEndpointList() {
+		return endpointList == null ? Collections.emptyList() : endpointList;
+	}
+
 	/**
 	 * Set the list of application endpoints assigned as a member of this {{object}} object.
 	 *
@@ -194,6 +228,7 @@ public class Group {
 	 */
 	public void  setEndpointList(Collection<String> endpointList) {
 		this.endpointList = endpointList;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -205,6 +240,7 @@ public class Group {
 	 */
 	public Group withEndpointList(String string) {
 		getEndpointList().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
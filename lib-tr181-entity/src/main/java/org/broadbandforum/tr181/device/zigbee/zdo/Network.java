@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.zigbee.zdo;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.zigbee.zdo.network.Neighbor;
 
 	/**
@@ -54,10 +55,20 @@ public class Network {
 	 * @return the value
 	 */
 	public Collection<Neighbor> getNeighbors() {
-		if (this.neighbors == null){ this.neighbors=new ArrayList<>();}
+		if (!(this.neighbors instanceof InstanceTable)){ this.neighbors=InstanceTable.of(this.neighbors);}
 		return neighbors;
 	}
 
+	/**
+	 * Read the {{object}} object provides the configuration capabilities needed to by a ZigBee Device to operate within a ZigBee Area Network as defined in {{bibref|ZigBee2007|section 2.5.2.4 Network Manager}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Neighbor> viewNeighbors() {
+		return neighbors == null ? Collections.emptyList() : neighbors;
+	}
+
 	/**
 	 * Set the {{object}} object provides the configuration capabilities needed to by a ZigBee Device to operate within a ZigBee Area Network as defined in {{bibref|ZigBee2007|section 2.5.2.4 Network Manager}}.
 	 *
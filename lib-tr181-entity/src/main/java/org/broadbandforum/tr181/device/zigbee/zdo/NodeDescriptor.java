@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.zigbee.zdo;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The {{object}} object describes the node capabilities of the ZigBee device as defined in {{bibref|ZigBee2007|section 2.3.2.3 Node Descriptor}}.
@@ -141,6 +143,11 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	@XmlList
 	public Collection<String> descriptorCapability;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NodeDescriptor() {
 	}
 
@@ -167,6 +174,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public void  setLogicalType(String logicalType) {
 		this.logicalType = logicalType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -180,6 +188,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public NodeDescriptor withLogicalType(String logicalType) {
 		this.logicalType = logicalType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -201,6 +210,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public void  setComplexDescriptorSupported(Boolean complexDescriptorSupported) {
 		this.complexDescriptorSupported = complexDescriptorSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -212,6 +222,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public NodeDescriptor withComplexDescriptorSupported(Boolean complexDescriptorSupported) {
 		this.complexDescriptorSupported = complexDescriptorSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -233,6 +244,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public void  setUserDescriptorSupported(Boolean userDescriptorSupported) {
 		this.userDescriptorSupported = userDescriptorSupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -244,6 +256,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public NodeDescriptor withUserDescriptorSupported(Boolean userDescriptorSupported) {
 		this.userDescriptorSupported = userDescriptorSupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -262,6 +275,21 @@ Enumerated value must be one of [868-868.6, 902-928, 2400-2483.5]
 		return frequencyBand;
 	}
 
+	/**
+	 * Read the specifies the frequency bands that are supported by the underlying IEEE 802.15.4 radio utilized by the ZigBee device.
+
+          {{list}} 
+
+Enumerated value must be one of [868-868.6, 902-928, 2400-2483.5]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFrequencyBand() {
+		return frequencyBand == null ? Collections.emptyList() : frequencyBand;
+	}
+
 	/**
 	 * Set the specifies the frequency bands that are supported by the underlying IEEE 802.15.4 radio utilized by the ZigBee device.
 
@@ -274,6 +302,7 @@ Enumerated value must be one of [868-868.6, 902-928, 2400-2483.5]
 	 */
 	public void  setFrequencyBand(Collection<String> frequencyBand) {
 		this.frequencyBand = frequencyBand;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -289,6 +318,7 @@ Enumerated value must be one of [868-868.6, 902-928, 2400-2483.5]
 	 */
 	public NodeDescriptor withFrequencyBand(String string) {
 		getFrequencyBand().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -307,6 +337,21 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 		return macCapability;
 	}
 
+	/**
+	 * Read the specifies  the IEEE 802.15.4-2003 MAC sub-layer capabilities for this ZigBee device.
+
+          {{list}} 
+
+Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource, OnWhenIdle, SecureCommunication]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewMacCapability() {
+		return macCapability == null ? Collections.emptyList() : macCapability;
+	}
+
 	/**
 	 * Set the specifies  the IEEE 802.15.4-2003 MAC sub-layer capabilities for this ZigBee device.
 
@@ -319,6 +364,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public void  setMacCapability(Collection<String> macCapability) {
 		this.macCapability = macCapability;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -334,6 +380,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public NodeDescriptor withMacCapability(String string) {
 		getMacCapability().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -355,6 +402,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public void  setManufactureCode(Long manufactureCode) {
 		this.manufactureCode = manufactureCode;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -366,6 +414,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public NodeDescriptor withManufactureCode(Long manufactureCode) {
 		this.manufactureCode = manufactureCode;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -387,6 +436,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public void  setMaximumBufferSize(Long maximumBufferSize) {
 		this.maximumBufferSize = maximumBufferSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -398,6 +448,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public NodeDescriptor withMaximumBufferSize(Long maximumBufferSize) {
 		this.maximumBufferSize = maximumBufferSize;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -419,6 +470,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public void  setMaximumIncomingTransferSize(Long maximumIncomingTransferSize) {
 		this.maximumIncomingTransferSize = maximumIncomingTransferSize;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -430,6 +482,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public NodeDescriptor withMaximumIncomingTransferSize(Long maximumIncomingTransferSize) {
 		this.maximumIncomingTransferSize = maximumIncomingTransferSize;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -451,6 +504,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public void  setMaximumOutgoingTransferSize(Long maximumOutgoingTransferSize) {
 		this.maximumOutgoingTransferSize = maximumOutgoingTransferSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -462,6 +516,7 @@ Enumerated value must be one of [AlternatePANCoordinator, FFD, MainsPowerSource,
 	 */
 	public NodeDescriptor withMaximumOutgoingTransferSize(Long maximumOutgoingTransferSize) {
 		this.maximumOutgoingTransferSize = maximumOutgoingTransferSize;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -480,6 +535,21 @@ Enumerated value must be one of [PrimaryTrustCenter, PrimaryBindingTableCache, B
 		return serverMask;
 	}
 
+	/**
+	 * Read the specifies the system server capabilities of this ZigBee device.
+
+          {{list}} 
+
+Enumerated value must be one of [PrimaryTrustCenter, PrimaryBindingTableCache, BackupBindingTableCache, PrimaryDiscoveryCache, BackupDiscoveryCache, NetworkManager]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewServerMask() {
+		return serverMask == null ? Collections.emptyList() : serverMask;
+	}
+
 	/**
 	 * Set the specifies the system server capabilities of this ZigBee device.
 
@@ -492,6 +562,7 @@ Enumerated value must be one of [PrimaryTrustCenter, PrimaryBindingTableCache, B
 	 */
 	public void  setServerMask(Collection<String> serverMask) {
 		this.serverMask = serverMask;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -507,6 +578,7 @@ Enumerated value must be one of [PrimaryTrustCenter, PrimaryBindingTableCache, B
 	 */
 	public NodeDescriptor withServerMask(String string) {
 		getServerMask().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -525,6 +597,21 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 		return descriptorCapability;
 	}
 
+	/**
+	 * Read the specifies the descriptor capabilities of this ZigBee device.
+
+          {{list}} 
+
+Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSimpleDescriptorListAvailable]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDescriptorCapability() {
+		return descriptorCapability == null ? Collections.emptyList() : descriptorCapability;
+	}
+
 	/**
 	 * Set the specifies the descriptor capabilities of this ZigBee device.
 
@@ -537,6 +624,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public void  setDescriptorCapability(Collection<String> descriptorCapability) {
 		this.descriptorCapability = descriptorCapability;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -552,6 +640,7 @@ Enumerated value must be one of [ExtendedActiveEndpointListAvailable, ExtendedSi
 	 */
 	public NodeDescriptor withDescriptorCapability(String string) {
 		getDescriptorCapability().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr181.device.zigbee.zdo;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr181.device.zigbee.zdo.nodemanager.RoutingTable;
 
 	/**
@@ -54,10 +55,20 @@ public class NodeManager {
 	 * @return the value
 	 */
 	public Collection<RoutingTable> getRoutingTables() {
-		if (this.routingTables == null){ this.routingTables=new ArrayList<>();}
+		if (!(this.routingTables instanceof InstanceTable)){ this.routingTables=InstanceTable.of(this.routingTables);}
 		return routingTables;
 	}
 
+	/**
+	 * Read the {{object}} object describes the route table as defined in {{bibref|ZigBee2007|table 3.51 Routing Table Entry}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<RoutingTable> viewRoutingTables() {
+		return routingTables == null ? Collections.emptyList() : routingTables;
+	}
+
 	/**
 	 * Set the {{object}} object describes the route table as defined in {{bibref|ZigBee2007|table 3.51 Routing Table Entry}}.
 	 *
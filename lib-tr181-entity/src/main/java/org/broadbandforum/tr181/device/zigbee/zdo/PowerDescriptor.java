@@ -17,6 +17,7 @@ package org.broadbandforum.tr181.device.zigbee.zdo;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +25,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The {{object}} object describes the power capabilities of the ZigBee device as defined in {{bibref|ZigBee2007|section 2.3.2.4 Node Power Descriptor}}.
@@ -76,6 +78,11 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	@XmlElement(name = "CurrentPowerSourceLevel")
 	public String currentPowerSourceLevel;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PowerDescriptor() {
 	}
 
@@ -102,6 +109,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public void  setCurrentPowerMode(String currentPowerMode) {
 		this.currentPowerMode = currentPowerMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -115,6 +123,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public PowerDescriptor withCurrentPowerMode(String currentPowerMode) {
 		this.currentPowerMode = currentPowerMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +142,21 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 		return availablePowerSource;
 	}
 
+	/**
+	 * Read the specifies the power sources available on this ZigBee device.
+
+          {{list}} 
+
+Enumerated value must be one of [Constant, Rechargeable, Disposable]
+	 *
+	 * @since 2.7
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAvailablePowerSource() {
+		return availablePowerSource == null ? Collections.emptyList() : availablePowerSource;
+	}
+
 	/**
 	 * Set the specifies the power sources available on this ZigBee device.
 
@@ -145,6 +169,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public void  setAvailablePowerSource(Collection<String> availablePowerSource) {
 		this.availablePowerSource = availablePowerSource;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -160,6 +185,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public PowerDescriptor withAvailablePowerSource(String string) {
 		getAvailablePowerSource().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -185,6 +211,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public void  setCurrentPowerSource(String currentPowerSource) {
 		this.currentPowerSource = currentPowerSource;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -198,6 +225,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public PowerDescriptor withCurrentPowerSource(String currentPowerSource) {
 		this.currentPowerSource = currentPowerSource;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -223,6 +251,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public void  setCurrentPowerSourceLevel(String currentPowerSourceLevel) {
 		this.currentPowerSourceLevel = currentPowerSourceLevel;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -236,6 +265,7 @@ Enumerated value must be one of [Constant, Rechargeable, Disposable]
 	 */
 	public PowerDescriptor withCurrentPowerSourceLevel(String currentPowerSourceLevel) {
 		this.currentPowerSourceLevel = currentPowerSourceLevel;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
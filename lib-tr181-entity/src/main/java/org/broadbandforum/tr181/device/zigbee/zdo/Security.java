@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IEEE_EUI64;
 
 	/**
@@ -60,6 +61,11 @@ public class Security {
 	@Size(max = 65535)
 	public Long timeOutPeriod;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Security() {
 	}
 
@@ -82,6 +88,7 @@ public class Security {
 	 */
 	public void  setTrustCenterAddress(IEEE_EUI64 trustCenterAddress) {
 		this.trustCenterAddress = trustCenterAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -93,6 +100,7 @@ public class Security {
 	 */
 	public Security withTrustCenterAddress(IEEE_EUI64 trustCenterAddress) {
 		this.trustCenterAddress = trustCenterAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -118,6 +126,7 @@ public class Security {
 	 */
 	public void  setSecurityLevel(String securityLevel) {
 		this.securityLevel = securityLevel;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -131,6 +140,7 @@ public class Security {
 	 */
 	public Security withSecurityLevel(String securityLevel) {
 		this.securityLevel = securityLevel;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -152,6 +162,7 @@ public class Security {
 	 */
 	public void  setTimeOutPeriod(Long timeOutPeriod) {
 		this.timeOutPeriod = timeOutPeriod;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -163,6 +174,7 @@ public class Security {
 	 */
 	public Security withTimeOutPeriod(Long timeOutPeriod) {
 		this.timeOutPeriod = timeOutPeriod;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
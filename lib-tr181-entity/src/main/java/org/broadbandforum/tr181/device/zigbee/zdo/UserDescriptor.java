@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The {{object}} object is an optional descriptor that describes user defined capabilities of the ZigBee device as defined in {{bibref|ZigBee2007|section 2.3.2.7 User Descriptor}}. The {{object}} object contains information that allows the user to identify the device using a user-friendly character string, such as "Bedroom TV" or "Stairs Light".
@@ -50,6 +51,11 @@ public class UserDescriptor {
 	@Size(max = 16)
 	public String description;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UserDescriptor() {
 	}
 
@@ -72,6 +78,7 @@ public class UserDescriptor {
 	 */
 	public void  setDescriptorAvailable(Boolean descriptorAvailable) {
 		this.descriptorAvailable = descriptorAvailable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -83,6 +90,7 @@ public class UserDescriptor {
 	 */
 	public UserDescriptor withDescriptorAvailable(Boolean descriptorAvailable) {
 		this.descriptorAvailable = descriptorAvailable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -104,6 +112,7 @@ public class UserDescriptor {
 	 */
 	public void  setDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -115,6 +124,7 @@ public class UserDescriptor {
 	 */
 	public UserDescriptor withDescription(String description) {
 		this.description = description;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
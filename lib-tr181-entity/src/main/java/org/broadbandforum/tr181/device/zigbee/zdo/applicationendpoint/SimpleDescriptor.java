@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The {{object}} object contains the attributes of the Simple Descriptor of an application endpoint, as defined in {{bibref|ZigBee2007|section 2.3.2.5 Simple Descriptor}}.
@@ -79,6 +80,11 @@ public class SimpleDescriptor {
 	@Size(max = 65535)
 	public Long outputClusterList;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SimpleDescriptor() {
 	}
 
@@ -101,6 +107,7 @@ public class SimpleDescriptor {
 	 */
 	public void  setProfileId(Long profileId) {
 		this.profileId = profileId;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +119,7 @@ public class SimpleDescriptor {
 	 */
 	public SimpleDescriptor withProfileId(Long profileId) {
 		this.profileId = profileId;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +141,7 @@ public class SimpleDescriptor {
 	 */
 	public void  setDeviceId(Long deviceId) {
 		this.deviceId = deviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +153,7 @@ public class SimpleDescriptor {
 	 */
 	public SimpleDescriptor withDeviceId(Long deviceId) {
 		this.deviceId = deviceId;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +175,7 @@ public class SimpleDescriptor {
 	 */
 	public void  setDeviceVersion(Long deviceVersion) {
 		this.deviceVersion = deviceVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +187,7 @@ public class SimpleDescriptor {
 	 */
 	public SimpleDescriptor withDeviceVersion(Long deviceVersion) {
 		this.deviceVersion = deviceVersion;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -197,6 +209,7 @@ public class SimpleDescriptor {
 	 */
 	public void  setInputClusterList(Long inputClusterList) {
 		this.inputClusterList = inputClusterList;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -208,6 +221,7 @@ public class SimpleDescriptor {
 	 */
 	public SimpleDescriptor withInputClusterList(Long inputClusterList) {
 		this.inputClusterList = inputClusterList;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -229,6 +243,7 @@ public class SimpleDescriptor {
 	 */
 	public void  setOutputClusterList(Long outputClusterList) {
 		this.outputClusterList = outputClusterList;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -240,6 +255,7 @@ public class SimpleDescriptor {
 	 */
 	public SimpleDescriptor withOutputClusterList(Long outputClusterList) {
 		this.outputClusterList = outputClusterList;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The {{object}} object provides the configuration capabilities needed to by a ZigBee Device to operate within a ZigBee Area Network as defined in {{bibref|ZigBee2007|section 2.5.2.4 Network Manager}}.
@@ -74,6 +76,16 @@ public class Neighbor {
 	@XmlElement(name = "Depth")
 	public Long depth;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Neighbor() {
 	}
 
@@ -96,6 +108,8 @@ public class Neighbor {
 	 */
 	public void  setNeighbor(String neighbor) {
 		this.neighbor = neighbor;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -107,6 +121,8 @@ public class Neighbor {
 	 */
 	public Neighbor withNeighbor(String neighbor) {
 		this.neighbor = neighbor;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -128,6 +144,7 @@ public class Neighbor {
 	 */
 	public void  setLqi(Long lqi) {
 		this.lqi = lqi;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -139,6 +156,7 @@ public class Neighbor {
 	 */
 	public Neighbor withLqi(Long lqi) {
 		this.lqi = lqi;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -160,6 +178,7 @@ public class Neighbor {
 	 */
 	public void  setRelationship(String relationship) {
 		this.relationship = relationship;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -171,6 +190,7 @@ public class Neighbor {
 	 */
 	public Neighbor withRelationship(String relationship) {
 		this.relationship = relationship;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -192,6 +212,7 @@ public class Neighbor {
 	 */
 	public void  setPermitJoin(String permitJoin) {
 		this.permitJoin = permitJoin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -203,6 +224,7 @@ public class Neighbor {
 	 */
 	public Neighbor withPermitJoin(String permitJoin) {
 		this.permitJoin = permitJoin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -224,6 +246,7 @@ public class Neighbor {
 	 */
 	public void  setDepth(Long depth) {
 		this.depth = depth;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -235,6 +258,7 @@ public class Neighbor {
 	 */
 	public Neighbor withDepth(Long depth) {
 		this.depth = depth;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.common.ZigBeeNetworkAddress;
 
 	/**
@@ -85,6 +87,16 @@ public class RoutingTable {
 	@XmlElement(name = "RouteRecordRequired")
 	public Boolean routeRecordRequired;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public RoutingTable() {
 	}
 
@@ -107,6 +119,8 @@ public class RoutingTable {
 	 */
 	public void  setDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -118,6 +132,8 @@ public class RoutingTable {
 	 */
 	public RoutingTable withDestinationAddress(String destinationAddress) {
 		this.destinationAddress = destinationAddress;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -139,6 +155,7 @@ public class RoutingTable {
 	 */
 	public void  setNextHopAddress(ZigBeeNetworkAddress nextHopAddress) {
 		this.nextHopAddress = nextHopAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -150,6 +167,7 @@ public class RoutingTable {
 	 */
 	public RoutingTable withNextHopAddress(ZigBeeNetworkAddress nextHopAddress) {
 		this.nextHopAddress = nextHopAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -171,6 +189,7 @@ public class RoutingTable {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -182,6 +201,7 @@ public class RoutingTable {
 	 */
 	public RoutingTable withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -203,6 +223,7 @@ public class RoutingTable {
 	 */
 	public void  setMemoryConstrained(Boolean memoryConstrained) {
 		this.memoryConstrained = memoryConstrained;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -214,6 +235,7 @@ public class RoutingTable {
 	 */
 	public RoutingTable withMemoryConstrained(Boolean memoryConstrained) {
 		this.memoryConstrained = memoryConstrained;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -235,6 +257,7 @@ public class RoutingTable {
 	 */
 	public void  setManyToOne(Boolean manyToOne) {
 		this.manyToOne = manyToOne;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -246,6 +269,7 @@ public class RoutingTable {
 	 */
 	public RoutingTable withManyToOne(Boolean manyToOne) {
 		this.manyToOne = manyToOne;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -267,6 +291,7 @@ public class RoutingTable {
 	 */
 	public void  setRouteRecordRequired(Boolean routeRecordRequired) {
 		this.routeRecordRequired = routeRecordRequired;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -278,6 +303,7 @@ public class RoutingTable {
 	 */
 	public RoutingTable withRouteRecordRequired(Boolean routeRecordRequired) {
 		this.routeRecordRequired = routeRecordRequired;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.tr181.Device;
+import org.broadbandforum.tr181.device.DSL;
+import org.broadbandforum.tr181.device.Hosts;
+import org.broadbandforum.tr181.device.IEEE1905;
+import org.broadbandforum.tr181.device.dsl.Line;
+import org.broadbandforum.tr181.device.dsl.line.Stats;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.broadbandforum.tr181.device.ieee1905.AL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class SnapshotCodecTest {
+
+  private final SnapshotCodec<Device> codec = SnapshotCodec.of(Device.class);
+
+  @Test
+  public void testRoundTrip() throws JAXBException {
+    Device device = device();
+    byte[] snapshot = codec.encode(device);
+    Device decoded = codec.decode(snapshot);
+    assertNotSame(device, decoded);
+    assertEquals(xml(device), xml(decoded));
+    assertEquals(codec.getSchema().getFingerprint(), SnapshotCodec.schemaFingerprint(snapshot));
+
+    InstanceTable<Host> hosts = (InstanceTable<Host>) decoded.getHosts().getHosts();
+    assertEquals(2, hosts.size());
+    assertEquals("printer", hosts.get(3).getHostName());
+    assertEquals(4, hosts.getNextInstanceNumber());
+  }
+
+  @Test
+  public void testMACAddressCase() {
+    SnapshotCodec<AL> al = SnapshotCodec.of(AL.class);
+    for (String text : new String[]{"00:1a:2b:3c:4d:5e", "00:1A:2B:3C:4D:5E", "00:1a:2B:3c:4D:5e", "", "00:1a"}) {
+      AL decoded = al.decode(al.encode(new AL().withIeeE1905Id(MACAddress.of(text))));
+      assertEquals(text, decoded.getIeeE1905Id().getValue());
+    }
+  }
+
+  @Test
+  public void testSharedDictionary() throws IOException {
+    SnapshotSchema schema = codec.getSchema();
+    assertTrue(schema.dictionarySize() > 0);
+    assertEquals(0, schema.dictionaryIndexOf("Error"));
+    assertEquals(-1, schema.dictionaryIndexOf("laptop"));
+
+    Host host = new Host().withAddressSource("DHCP").withHostName("laptop");
+    byte[] snapshot = SnapshotCodec.of(Host.class).encode(host);
+    String text = new String(snapshot, StandardCharsets.ISO_8859_1);
+    assertFalse(text.contains("DHCP"));
+    assertTrue(text.contains("laptop"));
+    Host decoded = SnapshotCodec.of(Host.class).decode(snapshot);
+    assertEquals("DHCP", decoded.getAddressSource());
+
+    ByteArrayOutputStream stored = new ByteArrayOutputStream();
+    schema.write(stored);
+    SnapshotSchema read = SnapshotSchema.read(new ByteArrayInputStream(stored.toByteArray()));
+    assertEquals(schema.getFingerprint(), read.getFingerprint());
+    assertEquals(schema.dictionarySize(), read.dictionarySize());
+    assertSame(schema, SnapshotSchema.register(read));
+  }
+
+  /**
+   * A Host snapshot written by an older model. Removed was dropped since,
+   * LeaseTimeRemaining was a long and Active a string, and the rows had a
+   * Removed child table. The older schema shares the dictionary ["Static",
+   * "DHCP"], so the snapshot refers to "DHCP" as 2 and to the first string it
+   * wrote, "h1", as 3.
+   */
+  @Test
+  public void testOlderSchema() throws IOException {
+    SnapshotOutput out = new SnapshotOutput(256);
+    out.writeVarInt(2);
+    out.writeString("Device.Hosts.Host.{i}.");
+    out.writeVarInt(6);
+    parameter(out, "Alias", SnapshotSchema.STRING);
+    parameter(out, "Removed", SnapshotSchema.STRING);
+    parameter(out, "LeaseTimeRemaining", SnapshotSchema.LONG);
+    parameter(out, "Active", SnapshotSchema.STRING);
+    parameter(out, "AddressSource", SnapshotSchema.STRING);
+    parameter(out, "HostName", SnapshotSchema.STRING);
+    out.writeVarInt(1);
+    out.writeString("Removed");
+    out.writeByte(1);
+    out.writeZigZag(1);
+    out.writeString("Device.Hosts.Host.{i}.Removed.{i}.");
+    out.writeVarInt(1);
+    parameter(out, "Name", SnapshotSchema.STRING);
+    out.writeVarInt(0);
+    out.writeVarInt(2);
+    out.writeString("Static");
+    out.writeString("DHCP");
+    SnapshotSchema older = SnapshotSchema.read(new ByteArrayInputStream(out.toByteArray()));
+    assertTrue(codec.getSchema().getFingerprint() != older.getFingerprint());
+
+    SnapshotOutput snapshot = new SnapshotOutput(256);
+    for (char c : "CWSN".toCharArray()) {
+      snapshot.writeByte(c);
+    }
+    snapshot.writeByte(SnapshotCodec.FORMAT_VERSION);
+    snapshot.writeLong(older.getFingerprint());
+    snapshot.writeVarInt(0);
+    int bitmap = snapshot.reserve(1);
+    for (int i = 0; i < 6; i++) {
+      snapshot.setBit(bitmap, i);
+    }
+    string(snapshot, "h1");
+    string(snapshot, "gone");
+    snapshot.writeZigZag(3600);
+    string(snapshot, "true");
+    snapshot.writeVarInt(2);
+    snapshot.writeVarInt(3);
+    bitmap = snapshot.reserve(1);
+    snapshot.setBit(bitmap, 0);
+    snapshot.writeByte(1);
+    snapshot.writeVarInt(1);
+    snapshot.writeVarInt(2);
+    snapshot.writeVarInt(1);
+    bitmap = snapshot.reserve(1);
+    snapshot.setBit(bitmap, 0);
+    string(snapshot, "row");
+    byte[] bytes = snapshot.toByteArray();
+
+    SnapshotCodec<Host> hosts = SnapshotCodec.of(Host.class);
+    try {
+      hosts.decode(bytes);
+      throw new AssertionError("decoded a snapshot of an unregistered schema");
+    } catch (IllegalArgumentException expected) {
+      assertTrue(expected.getMessage().startsWith("Unknown snapshot schema"));
+    }
+    SnapshotSchema.register(older);
+    Host host = hosts.decode(bytes);
+    assertEquals("h1", host.getAlias());
+    assertEquals("h1", host.getHostName());
+    assertEquals(Integer.valueOf(3600), host.getLeaseTimeRemaining());
+    assertEquals(Boolean.TRUE, host.isActive());
+    assertEquals("DHCP", host.getAddressSource());
+  }
+
+  private static void parameter(SnapshotOutput out, String name, byte kind) {
+    out.writeString(name);
+    out.writeByte(kind);
+  }
+
+  /**
+   * Write a new string, not using the dictionary.
+   */
+  private static void string(SnapshotOutput out, String value) {
+    out.writeVarInt(0);
+    out.writeString(value);
+  }
+
+  private static Device device() {
+    Hosts hosts = new Hosts()
+      .withHost(new Host().withAlias("laptop").withHostName("laptop").withPhysAddress("00:1a:2b:3c:4d:5e")
+        .withAddressSource("DHCP").withDhcPClient("Device.DHCPv4.Server.Pool.1.Client.1")
+        .withDhcPClient("Device.DHCPv6.Server.Pool.1.Client.1").withLeaseTimeRemaining(-1)
+        .withActive(true).withActiveLastChange(LocalDateTime.of(2026, 10, 17, 8, 30, 15))
+        .withClientID(new byte[]{1, 2, 3}))
+      .withHost(new Host().withAlias("phone").withHostName("phone"))
+      .withHost(new Host().withAlias("printer").withHostName("printer").withAddressSource("Static"));
+    ((InstanceTable<Host>) hosts.getHosts()).removeInstance(2);
+    DSL dsl = new DSL().withLine(new Line().withDownstreamNoiseMargin(-90).withLastChange(5L)
+      .withStats(new Stats().withBytesSent(1L << 40)));
+    return new Device().withHosts(hosts).withDsl(dsl)
+      .withIeeE1905(new IEEE1905()
+        .withAl(new AL().withIeeE1905Id(MACAddress.of("00:1A:2B:3C:4D:5E"))));
+  }
+
+  private static String xml(Device device) throws JAXBException {
+    StringWriter writer = new StringWriter();
+    JAXBContext.newInstance(Device.class).createMarshaller().marshal(device, writer);
+    return writer.toString();
+  }
+
+}
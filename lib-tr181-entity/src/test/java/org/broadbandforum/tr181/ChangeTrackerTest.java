@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.broadbandforum.notification.ChangeTracker;
+import org.broadbandforum.notification.ValueChange;
+import org.broadbandforum.rpc.ParameterValueReader;
+import org.broadbandforum.rpc.ParameterValueSetter;
+import org.broadbandforum.tr181.device.DeviceInfo;
+import org.broadbandforum.tr181.device.Hosts;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class ChangeTrackerTest {
+
+  private final ChangeTracker tracker = new ChangeTracker(Device.class);
+  private Device device;
+
+  @Before
+  public void setUp() {
+    device = new Device()
+      .withDeviceInfo(new DeviceInfo().withSoftwareVersion("1.0").withProvisioningCode("A"))
+      .withHosts(new Hosts().withHost(new Host().withHostName("laptop")));
+    tracker.track(device);
+  }
+
+  @Test
+  public void testSetter() {
+    device.getDeviceInfo().setSoftwareVersion("1.1");
+    assertChange("Device.DeviceInfo.SoftwareVersion", "1.1");
+    assertFalse(tracker.hasChanges());
+  }
+
+  @Test
+  public void testNotification() {
+    device.getHosts().getHosts().iterator().next().setHostName("desktop");
+    assertTrue(tracker.hasChanges());
+    assertTrue(tracker.collect().isEmpty());
+    tracker.setNotification("Device.Hosts.Host.1.HostName", ChangeTracker.PASSIVE);
+    device.getHosts().getHosts().iterator().next().setHostName("printer");
+    assertChange("Device.Hosts.Host.1.HostName", "printer");
+  }
+
+  @Test
+  public void testReader() {
+    assertTrue(ParameterValueReader.of(Device.class).apply(device, "Device.DeviceInfo.SoftwareVersion", "2.0"));
+    assertChange("Device.DeviceInfo.SoftwareVersion", "2.0");
+  }
+
+  @Test
+  public void testSetParameterValues() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("Device.DeviceInfo.ProvisioningCode", "B");
+    assertTrue(ParameterValueSetter.of(Device.class).apply(device, values).isEmpty());
+    assertChange("Device.DeviceInfo.ProvisioningCode", "B");
+  }
+
+  @Test
+  public void testRolledBackSetParameterValues() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("Device.DeviceInfo.ProvisioningCode", "B");
+    values.put("Device.DeviceInfo.SoftwareVersion", "2.0");
+    assertEquals(1, ParameterValueSetter.of(Device.class).apply(device, values).size());
+    assertFalse(tracker.hasChanges());
+  }
+
+  private void assertChange(String path, Object value) {
+    List<ValueChange> changes = tracker.collect();
+    assertEquals(changes.toString(), 1, changes.size());
+    assertEquals(path, changes.get(0).getPath());
+    assertEquals(value, changes.get(0).getValue());
+  }
+
+}
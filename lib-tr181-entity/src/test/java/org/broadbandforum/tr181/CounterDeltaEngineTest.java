@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import org.broadbandforum.common.StatsCounter32;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.metamodel.CounterDeltaEngine;
+import org.broadbandforum.metamodel.CounterDeltas;
+import org.broadbandforum.metamodel.CounterDeltas.State;
+import org.broadbandforum.tr181.device.dsl.Line;
+import org.broadbandforum.tr181.device.wifi.accesspoint.ac.Stats;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class CounterDeltaEngineTest {
+
+  private final CounterDeltaEngine stats = CounterDeltaEngine.of(Stats.class);
+  private final CounterDeltaEngine lines = CounterDeltaEngine.of(Line.class);
+
+  @Test
+  public void testCounters() {
+    assertTrue(stats.indexOf("BytesSent") >= 0);
+    assertTrue(stats.indexOf("ErrorsSent") >= 0);
+    assertEquals(-1, stats.indexOf("OutQLenHistogram"));
+    assertTrue(lines.indexOf("Stats.BytesSent") >= 0);
+    assertEquals(-1, lines.indexOf("LastChange"));
+  }
+
+  @Test
+  public void testIncrease() {
+    assertDelta(errorsSent(10, 15), State.VALID, 5);
+    assertDelta(errorsSent(10, 10), State.VALID, 0);
+    assertDelta(bytesSent(1L << 40, (1L << 40) + 7), State.VALID, 7);
+  }
+
+  @Test
+  public void test32BitWrap() {
+    assertDelta(errorsSent(0xfffffff0L, 0x10), State.ROLLOVER, 0x20);
+    assertDelta(errorsSent(0x80000000L, 0), State.ROLLOVER, 0x80000000L);
+  }
+
+  @Test
+  public void test32BitReset() {
+    assertDelta(errorsSent(1_000_000, 10), State.RESET, 10);
+    assertDelta(errorsSent(0x7fffffffL, 0), State.RESET, 0);
+  }
+
+  @Test
+  public void test64BitWrap() {
+    assertDelta(bytesSent(-16, 16), State.ROLLOVER, 32);
+  }
+
+  @Test
+  public void test64BitReset() {
+    assertDelta(bytesSent(1L << 40, 5), State.RESET, 5);
+  }
+
+  @Test
+  public void testUnavailable() {
+    assertDelta(errorsSent(StatsCounter32.MAX_VALUE, 10), State.UNAVAILABLE, 0);
+    assertDelta(errorsSent(10, StatsCounter32.MAX_VALUE), State.UNAVAILABLE, 0);
+    assertDelta(bytesSent(StatsCounter64.MAX_VALUE, 10), State.UNAVAILABLE, 0);
+    CounterDeltas deltas = stats.compute(new Stats(), new Stats().withErrorsSent(StatsCounter32.valueOf(10)));
+    assertEquals(State.UNAVAILABLE, deltas.getState(stats.indexOf("ErrorsSent")));
+    assertEquals(deltas.size(), deltas.count(State.UNAVAILABLE));
+  }
+
+  /**
+   * A Long counter of a Stats object wraps at 2^32 while both values fit in
+   * 32 bits, and at 2^64 otherwise.
+   */
+  @Test
+  public void testLongCounterWidth() {
+    int counter = lines.indexOf("Stats.BytesSent");
+    CounterDeltas deltas = lines.compute(line(0xffffff00L), line(0x100L));
+    assertEquals(State.ROLLOVER, deltas.getState(counter));
+    assertEquals(0x200, deltas.getDelta(counter));
+
+    deltas = lines.compute(line(0xffffff00L), line(0x90000000L));
+    assertEquals(State.RESET, deltas.getState(counter));
+    assertEquals(0x90000000L, deltas.getDelta(counter));
+
+    deltas = lines.compute(line(1L << 33), line(5L));
+    assertEquals(State.RESET, deltas.getState(counter));
+    assertEquals(5, deltas.getDelta(counter));
+
+    deltas = lines.compute(line(-16L), line(16L));
+    assertEquals(State.ROLLOVER, deltas.getState(counter));
+    assertEquals(32, deltas.getDelta(counter));
+
+    deltas = lines.compute(new Line(), line(16L));
+    assertEquals(State.UNAVAILABLE, deltas.getState(counter));
+  }
+
+  @Test
+  public void testReusedDeltas() {
+    CounterDeltas deltas = stats.newDeltas();
+    Stats[] pair = errorsSent(0xfffffff0L, 0x10);
+    stats.compute(pair[0], pair[1], deltas);
+    assertEquals(State.ROLLOVER, deltas.getState(stats.indexOf("ErrorsSent")));
+    pair = errorsSent(10, 15);
+    stats.compute(pair[0], pair[1], deltas);
+    assertEquals(State.VALID, deltas.getState(stats.indexOf("ErrorsSent")));
+    assertEquals(5, deltas.getDelta(stats.indexOf("ErrorsSent")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDeltasOfAnotherEngine() {
+    stats.compute(new Stats(), new Stats(), lines.newDeltas());
+  }
+
+  private void assertDelta(Stats[] pair, State state, long delta) {
+    int counter = pair[0].errorsSent != null ? stats.indexOf("ErrorsSent") : stats.indexOf("BytesSent");
+    CounterDeltas deltas = stats.compute(pair[0], pair[1]);
+    assertEquals(state, deltas.getState(counter));
+    assertEquals(delta, deltas.getDelta(counter));
+  }
+
+  private static Stats[] errorsSent(long previous, long current) {
+    return new Stats[]{new Stats().withErrorsSent(StatsCounter32.valueOf(previous)),
+                       new Stats().withErrorsSent(StatsCounter32.valueOf(current))};
+  }
+
+  private static Stats[] bytesSent(long previous, long current) {
+    return new Stats[]{new Stats().withBytesSent(StatsCounter64.valueOf(previous)),
+                       new Stats().withBytesSent(StatsCounter64.valueOf(current))};
+  }
+
+  private static Line line(long bytesSent) {
+    return new Line().withStats(new org.broadbandforum.tr181.device.dsl.line.Stats().withBytesSent(bytesSent));
+  }
+
+}
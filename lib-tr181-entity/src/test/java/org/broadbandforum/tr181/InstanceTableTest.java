@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.tr181.device.hosts.Host;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class InstanceTableTest {
+
+  private static Host host(String alias, String physAddress) {
+    return new Host().withAlias(alias).withPhysAddress(physAddress);
+  }
+
+  @Test
+  public void testByUnique() {
+    InstanceTable<Host> table = new InstanceTable<>();
+    Host a = host("a", "00:00:00:00:00:01");
+    Host b = host("b", "00:00:00:00:00:02");
+    table.add(a);
+    table.add(b);
+    assertSame(a, table.byUnique("Alias", "a"));
+    assertSame(b, table.byUnique("PhysAddress", "00:00:00:00:00:02"));
+    assertNull(table.byUnique("PhysAddress", "00:00:00:00:00:03"));
+    assertEquals(0, table.getViolationCount());
+    Host c = host("c", "00:00:00:00:00:03");
+    table.add(c);
+    assertSame(c, table.byUnique("PhysAddress", "00:00:00:00:00:03"));
+    table.remove(b);
+    assertNull(table.byUnique("Alias", "b"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testByUniqueUndeclared() {
+    InstanceTable<Host> table = new InstanceTable<>();
+    table.add(host("a", "00:00:00:00:00:01"));
+    table.byUnique("HostName", "a");
+  }
+
+  @Test
+  public void testViolations() {
+    InstanceTable<Host> table = new InstanceTable<>();
+    Host a = host("a", "00:00:00:00:00:01");
+    Host b = host("b", "00:00:00:00:00:01");
+    Host c = host("a", "00:00:00:00:00:01");
+    table.add(a);
+    table.add(b);
+    assertEquals(1, table.getViolationCount());
+    assertSame(b, table.findConflict(a));
+    assertSame(a, table.findConflict(b));
+    assertSame(a, table.findConflict(c));
+    assertNull(table.findConflict(host("d", "00:00:00:00:00:04")));
+    table.add(c);
+    assertEquals(3, table.getViolationCount());
+    assertSame(a, table.byUnique("PhysAddress", "00:00:00:00:00:01"));
+    table.remove(a);
+    assertEquals(1, table.getViolationCount());
+    table.remove(c);
+    assertEquals(0, table.getViolationCount());
+  }
+
+  @Test
+  public void testEmptyKeysAreNotIndexed() {
+    InstanceTable<Host> table = new InstanceTable<>();
+    table.add(host("a", null));
+    table.add(host("b", ""));
+    table.add(host("c", null));
+    assertEquals(0, table.getViolationCount());
+    assertNull(table.byUnique("PhysAddress", ""));
+  }
+
+  @Test
+  public void testSetterReindexes() {
+    InstanceTable<Host> table = new InstanceTable<>();
+    Host a = host("a", "00:00:00:00:00:01");
+    Host b = host("b", "00:00:00:00:00:02");
+    table.add(a);
+    table.add(b);
+    assertSame(a, table.byUnique("PhysAddress", "00:00:00:00:00:01"));
+
+    a.setPhysAddress("00:00:00:00:00:03");
+    assertNull(table.byUnique("PhysAddress", "00:00:00:00:00:01"));
+    assertSame(a, table.byUnique("PhysAddress", "00:00:00:00:00:03"));
+
+    b.withAlias("a");
+    assertEquals(1, table.getViolationCount());
+    assertSame(a, table.findConflict(b));
+    assertNull(table.byUnique("Alias", "b"));
+
+    b.setAlias("b");
+    assertEquals(0, table.getViolationCount());
+    assertSame(b, table.byUnique("Alias", "b"));
+  }
+
+  @Test
+  public void testDirectWriteNeedsReindex() {
+    InstanceTable<Host> table = new InstanceTable<>();
+    Host a = host("a", "00:00:00:00:00:01");
+    table.add(a);
+    assertSame(a, table.byUnique("Alias", "a"));
+    a.alias = "z";
+    assertNull(table.byUnique("Alias", "z"));
+    assertTrue(table.reindex(a));
+    assertSame(a, table.byUnique("Alias", "z"));
+    assertFalse(table.reindex(host("a", null)));
+  }
+
+  @Test
+  public void testRemovedRowIsDetached() {
+    InstanceTable<Host> table = new InstanceTable<>();
+    Host a = host("a", "00:00:00:00:00:01");
+    Host b = host("b", "00:00:00:00:00:02");
+    table.add(a);
+    table.add(b);
+    assertEquals(0, table.getViolationCount());
+    table.remove(a);
+    a.setAlias("b");
+    assertEquals(0, table.getViolationCount());
+    assertSame(b, table.byUnique("Alias", "b"));
+
+    Host c = host("c", "00:00:00:00:00:03");
+    table.put(table.instanceNumberOf(b), c);
+    b.setAlias("c");
+    assertEquals(0, table.getViolationCount());
+    assertSame(c, table.byUnique("Alias", "c"));
+
+    table.clear();
+    c.setAlias("d");
+    assertNull(table.byUnique("Alias", "d"));
+  }
+
+}
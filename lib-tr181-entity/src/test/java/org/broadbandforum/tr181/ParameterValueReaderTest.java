@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.broadbandforum.analysis.BinStatistics;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.StatsCounter32;
+import org.broadbandforum.common.StatsCounter64;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.rpc.ParameterValueReader;
+import org.broadbandforum.tr181.device.dsl.Line;
+import org.broadbandforum.tr181.device.hosts.Host;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class ParameterValueReaderTest {
+
+  private final ParameterValueReader reader = ParameterValueReader.of(Device.class);
+  private final PathResolver resolver = PathResolver.of(Device.class);
+
+  @Test
+  public void testRowsCreatedOnDemand() throws IOException {
+    Device device = new Device();
+    int count = reader.read(document(
+      struct("Device.Hosts.Host.3.HostName", "printer"),
+      struct("Device.Hosts.Host.7.HostName", "laptop"),
+      struct("Device.Hosts.Host.3.Active", "true")), device);
+    assertEquals(3, count);
+    InstanceTable<Host> hosts = (InstanceTable<Host>) device.getHosts().getHosts();
+    assertEquals(2, hosts.size());
+    assertEquals("printer", hosts.get(3).getHostName());
+    assertEquals(Boolean.TRUE, hosts.get(3).isActive());
+    assertEquals("laptop", hosts.get(7).getHostName());
+    assertEquals(8, hosts.getNextInstanceNumber());
+  }
+
+  @Test
+  public void testAliasPaths() throws IOException {
+    Device device = new Device();
+    int count = reader.read(document(
+      struct("Device.Hosts.Host.2.Alias", "laptop"),
+      struct("Device.Hosts.Host.[laptop].HostName", "desktop"),
+      struct("Device.Hosts.Host.[phone].HostName", "phone")), device);
+    assertEquals(2, count);
+    InstanceTable<Host> hosts = (InstanceTable<Host>) device.getHosts().getHosts();
+    assertEquals(1, hosts.size());
+    assertEquals("desktop", hosts.get(2).getHostName());
+  }
+
+  @Test
+  public void testValueBeforeName() throws IOException {
+    Device device = new Device();
+    int count = reader.read(document(
+      "<ParameterValueStruct><Value xsi:type=\"xsd:string\">printer</Value>"
+      + "<Name>Device.Hosts.Host.1.HostName</Name></ParameterValueStruct>"), device);
+    assertEquals(1, count);
+    assertEquals("printer", resolver.getValue(device, "Device.Hosts.Host.1.HostName"));
+  }
+
+  @Test
+  public void testSkipped() throws IOException {
+    Device device = new Device();
+    int count = reader.read(document(
+      struct("Device.X_VENDOR_Setting", "1"),
+      struct("Device.X_VENDOR_Setting", "2"),
+      struct("Device.Hosts.Host.1.X_VENDOR_Flag", "1"),
+      struct("Device.Hosts.", ""),
+      struct("Device.Hosts.Host.1.Active", "maybe"),
+      struct("Device.Hosts.Host.1.LeaseTimeRemaining", "soon"),
+      struct("Device.Hosts.Host.1.ActiveLastChange", "yesterday"),
+      struct("Device.Hosts.Host.1.HostName", "printer")), device);
+    assertEquals(1, count);
+    assertEquals("printer", resolver.getValue(device, "Device.Hosts.Host.1.HostName"));
+    assertNull(resolver.getValue(device, "Device.Hosts.Host.1.Active"));
+    assertNull(resolver.getValue(device, "Device.Hosts.Host.1.LeaseTimeRemaining"));
+    assertFalse(reader.apply(device, "not a path", "1"));
+  }
+
+  @Test
+  public void testTypeConversion() throws IOException {
+    Device device = new Device();
+    int count = reader.read(document(
+      struct("Device.Hosts.Host.1.ActiveLastChange", "2026-10-17T08:30:15Z"),
+      struct("Device.Hosts.Host.1.LeaseTimeRemaining", "-1"),
+      struct("Device.Hosts.Host.1.Active", "0"),
+      struct("Device.Hosts.Host.1.DHCPClient", "Device.DHCPv4.Server.Pool.1.Client.1, Device.DHCPv6.Server.Pool.1.Client.1"),
+      struct("Device.WiFi.AccessPoint.1.AC.2.Stats.BytesSent", "18446744073709551610"),
+      struct("Device.WiFi.AccessPoint.1.AC.2.Stats.ErrorsSent", "42")), device);
+    assertEquals(6, count);
+    Host host = ((InstanceTable<Host>) device.getHosts().getHosts()).get(1);
+    assertEquals(LocalDateTime.of(2026, 10, 17, 8, 30, 15), host.getActiveLastChange());
+    assertEquals(Integer.valueOf(-1), host.getLeaseTimeRemaining());
+    assertEquals(Boolean.FALSE, host.isActive());
+    assertEquals(Arrays.asList("Device.DHCPv4.Server.Pool.1.Client.1", "Device.DHCPv6.Server.Pool.1.Client.1"),
+                 new ArrayList<>(host.getDhcPClient()));
+    StatsCounter64 bytesSent = (StatsCounter64) resolver.getValue(device, "Device.WiFi.AccessPoint.1.AC.2.Stats.BytesSent");
+    assertEquals(-6L, bytesSent.longValue());
+    assertTrue(bytesSent.isAvailable());
+    StatsCounter32 errorsSent = (StatsCounter32) resolver.getValue(device, "Device.WiFi.AccessPoint.1.AC.2.Stats.ErrorsSent");
+    assertEquals(42L, errorsSent.longValue());
+  }
+
+  @Test
+  public void testDocumentTypeRejected() {
+    String xml = "<?xml version=\"1.0\"?>"
+                 + "<!DOCTYPE ParameterList [<!ENTITY name \"Device.Hosts.Host.1.HostName\">]>"
+                 + "<ParameterList>" + struct("&name;", "printer") + "</ParameterList>";
+    Device device = new Device();
+    try {
+      reader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), device);
+      fail("read a document with an internal entity");
+    } catch (IOException expected) {
+    }
+    assertNull(device.getHosts());
+  }
+
+  @Test
+  public void testListSink() throws IOException {
+    Device device = new Device();
+    BinStatistics snr = new BinStatistics(4, 255);
+    int count = reader.read(document(
+      struct("Device.DSL.Line.1.TestParams.SNRpsus", "10,20,30,40"),
+      struct("Device.DSL.Line.2.TestParams.SNRpsus", "30,20,10"),
+      struct("Device.DSL.Line.3.TestParams.SNRpsus", "1,x"),
+      struct("Device.DSL.Line.1.TestParams.QLNpsus", "1,2")), device, (path, parameter, text) -> {
+      if (!parameter.getName().equals("SNRpsus")) {
+        return false;
+      }
+      snr.add(text);
+      return true;
+    });
+    assertEquals(3, count);
+    assertEquals(2, snr.getArrays());
+    assertEquals(20.0, snr.getMean(0), 0);
+    assertEquals(1, snr.getCount(3));
+    Line line = ((InstanceTable<Line>) device.getDsl().getLines()).get(1);
+    assertNull(line.getTestParams().snrpsus);
+    assertEquals(2, line.getTestParams().qlnpsus.size());
+  }
+
+  static ByteArrayInputStream document(String... structs) {
+    StringBuilder xml = new StringBuilder("<ParameterList xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                                          + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\">");
+    for (String struct : structs) {
+      xml.append(struct);
+    }
+    return new ByteArrayInputStream(xml.append("</ParameterList>").toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String struct(String name, String value) {
+    return "<ParameterValueStruct><Name>" + name + "</Name><Value>" + value + "</Value></ParameterValueStruct>";
+  }
+
+}
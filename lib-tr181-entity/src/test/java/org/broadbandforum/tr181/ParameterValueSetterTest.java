@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.broadbandforum.common.Alias;
+import org.broadbandforum.rpc.ParameterFault;
+import org.broadbandforum.rpc.ParameterValueSetter;
+import org.broadbandforum.tr181.device.Ethernet;
+import org.broadbandforum.tr181.device.ethernet.Interface;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class ParameterValueSetterTest {
+
+  private final ParameterValueSetter setter = ParameterValueSetter.of(Device.class);
+  private Device device;
+  private Interface first;
+  private Interface second;
+
+  @Before
+  public void setUp() {
+    device = new Device().withEthernet(new Ethernet()
+      .withInterface(new Interface().withAlias(Alias.valueOf("cpe-eth-1")).withEnable(false))
+      .withInterface(new Interface().withAlias(Alias.valueOf("cpe-eth-2")).withEnable(false)));
+    Iterator<Interface> interfaces = device.getEthernet().getInterfaces().iterator();
+    first = interfaces.next();
+    second = interfaces.next();
+  }
+
+  @Test
+  public void testApply() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("Device.Ethernet.Interface.1.Enable", "true");
+    values.put("Device.Ethernet.Interface.[cpe-eth-2].MaxBitRate", "1000");
+    values.put("Device.Ethernet.Interface.2.DuplexMode", "Full");
+    assertTrue(setter.apply(device, values).isEmpty());
+    assertTrue(first.isEnable());
+    assertEquals(Integer.valueOf(1000), second.getMaxBitRate());
+    assertEquals("Full", second.getDuplexMode());
+  }
+
+  @Test
+  public void testInvalidParameterName() {
+    assertFault(ParameterFault.INVALID_PARAMETER_NAME, "Device.Ethernet.Interface.3.Enable", "true");
+    assertFault(ParameterFault.INVALID_PARAMETER_NAME, "Device.Ethernet.Interface.{i}.Enable", "true");
+    assertFault(ParameterFault.INVALID_PARAMETER_NAME, "Device.Ethernet.Interface.1.Nothing", "true");
+  }
+
+  @Test
+  public void testNonWritableParameter() {
+    assertFault(ParameterFault.NON_WRITABLE_PARAMETER, "Device.Ethernet.Interface.1.Status", "Up");
+  }
+
+  @Test
+  public void testInvalidParameterValue() {
+    assertFault(ParameterFault.INVALID_PARAMETER_VALUE, "Device.Ethernet.Interface.1.MaxBitRate", "fast");
+    assertFault(ParameterFault.INVALID_PARAMETER_TYPE, "Device.Ethernet.Interface.1.MaxBitRate", Boolean.TRUE);
+  }
+
+  @Test
+  public void testUniqueAlias() {
+    assertFault(ParameterFault.INVALID_PARAMETER_VALUE, "Device.Ethernet.Interface.2.Alias", "cpe-eth-1");
+    assertEquals("cpe-eth-2", second.getAlias().getValue());
+  }
+
+  @Test
+  public void testRollback() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("Device.Ethernet.Interface.1.Enable", "true");
+    values.put("Device.Ethernet.Interface.2.MaxBitRate", "fast");
+    List<ParameterFault> faults = setter.apply(device, values);
+    assertEquals(1, faults.size());
+    assertEquals("Device.Ethernet.Interface.2.MaxBitRate", faults.get(0).getParameterName());
+    assertFalse(first.isEnable());
+    assertEquals(null, second.getMaxBitRate());
+  }
+
+  private void assertFault(int faultCode, String name, Object value) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put(name, value);
+    List<ParameterFault> faults = setter.apply(device, values);
+    assertEquals(faults.toString(), 1, faults.size());
+    assertEquals(faultCode, faults.get(0).getFaultCode());
+    assertEquals(name, faults.get(0).getParameterName());
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.broadbandforum.rpc.ParameterValueWriter;
+import org.broadbandforum.tr181.device.DSL;
+import org.broadbandforum.tr181.device.Hosts;
+import org.broadbandforum.tr181.device.dsl.Line;
+import org.broadbandforum.tr181.device.dsl.line.Stats;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class ParameterValueWriterTest {
+
+  private final ParameterValueWriter writer = ParameterValueWriter.of(Device.class);
+  private Device device;
+
+  @Before
+  public void setUp() {
+    device = new Device()
+      .withHosts(new Hosts()
+        .withHost(new Host().withAlias("cpe-host-1").withHostName("laptop"))
+        .withHost(new Host().withAlias("cpe-host-2").withHostName("printer")));
+  }
+
+  @Test
+  public void testParameter() throws Exception {
+    Document document = write("Device.Hosts.Host.2.HostName");
+    assertEquals(1, document.getElementsByTagName("ParameterValueStruct").getLength());
+    assertEquals("Device.Hosts.Host.2.HostName", document.getElementsByTagName("Name").item(0).getTextContent());
+    assertEquals("printer", document.getElementsByTagName("Value").item(0).getTextContent());
+  }
+
+  @Test
+  public void testTablePath() throws Exception {
+    assertEquals(4, writer.count(device, "Device.Hosts.Host."));
+    assertEquals(writer.count(device, "Device.Hosts."), writer.count(device, "Device.Hosts.Host."));
+    Document document = write("Device.Hosts.Host.");
+    assertEquals("Device.Hosts.Host.1.Alias", document.getElementsByTagName("Name").item(0).getTextContent());
+    assertEquals("Device.Hosts.Host.2.HostName", document.getElementsByTagName("Name").item(3).getTextContent());
+    assertEquals(0, writer.count(new Device(), "Device.Hosts.Host."));
+  }
+
+  @Test
+  public void testControlCharacters() throws Exception {
+    device.getHosts().getHosts().iterator().next().setHostName("lap\u0001top\ttab");
+    Document document = write("Device.Hosts.Host.1.HostName");
+    assertEquals("lap?top\ttab", document.getElementsByTagName("Value").item(0).getTextContent());
+  }
+
+  @Test
+  public void testDeclaredXsdType() throws Exception {
+    device.withDsl(new DSL().withLine(new Line()
+      .withDownstreamNoiseMargin(-90)
+      .withLastChange(5L)
+      .withStats(new Stats().withBytesSent(5L))));
+    Document document = write("Device.DSL.Line.1.DownstreamNoiseMargin", "Device.DSL.Line.1.LastChange",
+                              "Device.DSL.Line.1.Stats.BytesSent", "Device.Hosts.Host.1.HostName");
+    assertEquals("xsd:int", xsiType(document, 0));
+    assertEquals("xsd:unsignedInt", xsiType(document, 1));
+    assertEquals("xsd:unsignedLong", xsiType(document, 2));
+    assertEquals("xsd:string", xsiType(document, 3));
+    assertEquals("-90", document.getElementsByTagName("Value").item(0).getTextContent());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPath() throws IOException {
+    writer.count(device, "Device.Hosts.Nothing.");
+  }
+
+  private static String xsiType(Document document, int index) {
+    return ((Element) document.getElementsByTagName("Value").item(index))
+      .getAttributeNS(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "type");
+  }
+
+  /**
+   * Write and parse a ParameterList, failing if it is not well-formed.
+   */
+  private Document write(String... names) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.writeParameterList(out, device, names);
+    String xml = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue(xml, xml.startsWith("<ParameterList"));
+    assertFalse(xml, xml.contains("\u0001"));
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    return factory.newDocumentBuilder().parse(new ByteArrayInputStream(out.toByteArray()));
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.broadbandforum.metamodel.PathResolver;
+import org.broadbandforum.tr181.device.Hosts;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class PathResolverTest {
+
+  private PathResolver resolver;
+  private Device device;
+  private Host host;
+
+  @Before
+  public void setUp() {
+    resolver = PathResolver.of(Device.class);
+    host = new Host().withAlias("cpe-host-2").withHostName("printer");
+    device = new Device()
+      .withHosts(new Hosts()
+        .withHost(new Host().withAlias("cpe-host-1").withHostName("laptop"))
+        .withHost(host));
+  }
+
+  @Test
+  public void testGetValue() {
+    assertEquals("printer", resolver.getValue(device, "Device.Hosts.Host.2.HostName"));
+    assertEquals("printer", resolver.getValue(device, "Device.Hosts.Host.[cpe-host-2].HostName"));
+    assertNull(resolver.getValue(device, "Device.Hosts.Host.3.HostName"));
+  }
+
+  @Test
+  public void testGetObject() {
+    assertSame(host, resolver.getObject(device, "Device.Hosts.Host.2."));
+  }
+
+  @Test
+  public void testSetValue() {
+    resolver.setValue(device, "Device.Hosts.Host.2.HostName", "scanner");
+    assertEquals("scanner", host.getHostName());
+  }
+
+  @Test
+  public void testToInstancePath() {
+    assertEquals("Device.Hosts.Host.2.HostName", resolver.toInstancePath(device, "Device.Hosts.Host.[cpe-host-2].HostName"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectPlaceholderObject() {
+    resolver.getObject(device, "Device.Hosts.Host.{i}.");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectPlaceholderParameter() {
+    resolver.getValue(device, "Device.Hosts.Host.{i}.HostName");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectUnknownParameter() {
+    resolver.getValue(device, "Device.Hosts.Host.1.Nope");
+  }
+
+}
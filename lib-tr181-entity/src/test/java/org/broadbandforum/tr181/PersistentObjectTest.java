@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.persistent.PersistentObject;
+import org.broadbandforum.tr181.device.Hosts;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class PersistentObjectTest {
+
+  private final PersistentObject empty = PersistentObject.empty(Device.class);
+
+  @Test
+  public void testWith() {
+    PersistentObject tree = empty.with("Device.Hosts.Host.3.HostName", "printer");
+    assertEquals("printer", tree.get("Device.Hosts.Host.3.HostName"));
+    assertNull(empty.get("Device.Hosts.Host.3.HostName"));
+    assertNull(tree.get("Device.Hosts.Host.2.HostName"));
+  }
+
+  @Test
+  public void testClearBelowMissingRow() {
+    assertSame(empty, empty.with("Device.Hosts.Host.3.HostName", null));
+    assertSame(empty, empty.with("Device.DeviceInfo.Manufacturer", null));
+    PersistentObject tree = empty.with("Device.Hosts.Host.1.HostName", "laptop");
+    assertSame(tree, tree.with("Device.Hosts.Host.3.HostName", null));
+  }
+
+  @Test
+  public void testClear() {
+    PersistentObject tree = empty.with("Device.Hosts.Host.3.HostName", "printer");
+    assertNull(tree.with("Device.Hosts.Host.3.HostName", null).get("Device.Hosts.Host.3.HostName"));
+  }
+
+  @Test
+  public void testWithEqualValue() {
+    PersistentObject tree = empty
+      .with("Device.Hosts.Host.3.HostName", "printer")
+      .with("Device.Ethernet.Interface.1.MACAddress", MACAddress.of("00:1A:2B:3C:4D:5E"));
+    assertSame(tree, tree.with("Device.Hosts.Host.3.HostName", new String("printer")));
+    assertSame(tree, tree.with("Device.Ethernet.Interface.1.MACAddress", MACAddress.of("00:1A:2B:3C:4D:5E")));
+    assertNotSame(tree, tree.with("Device.Hosts.Host.3.HostName", "scanner"));
+  }
+
+  @Test
+  public void testWithout() {
+    PersistentObject tree = empty.with("Device.Hosts.Host.3.HostName", "printer");
+    assertNull(tree.without("Device.Hosts.Host.3.").get("Device.Hosts.Host.3.HostName"));
+    assertSame(tree, tree.without("Device.Hosts.Host.4."));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithInvalidType() {
+    empty.with("Device.Hosts.Host.3.HostName", 42L);
+  }
+
+  @Test
+  public void testEntityRoundTrip() {
+    Device device = new Device().withHosts(new Hosts().withHost(new Host().withHostName("laptop")));
+    PersistentObject tree = PersistentObject.of(device);
+    assertEquals("laptop", tree.get("Device.Hosts.Host.1.HostName"));
+    Device copy = tree.toEntity(Device.class);
+    assertEquals("laptop", copy.getHosts().getHosts().iterator().next().getHostName());
+  }
+
+}
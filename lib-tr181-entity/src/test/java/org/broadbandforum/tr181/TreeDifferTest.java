@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.io.StringWriter;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.diff.ChangeSet;
+import org.broadbandforum.diff.ParameterChange;
+import org.broadbandforum.diff.TreeDiffer;
+import org.broadbandforum.tr181.device.DSL;
+import org.broadbandforum.tr181.device.Hosts;
+import org.broadbandforum.tr181.device.dsl.Line;
+import org.broadbandforum.tr181.device.hosts.Host;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class TreeDifferTest {
+
+  private final TreeDiffer differ = TreeDiffer.of(Device.class);
+
+  @Test
+  public void testSameTree() {
+    Device device = device("laptop", "printer");
+    assertTrue(differ.diff(device, device).isEmpty());
+    assertTrue(differ.diff(device, device("laptop", "printer")).isEmpty());
+  }
+
+  @Test
+  public void testParameterChange() {
+    ChangeSet changes = differ.diff(device("laptop", "printer"), device("laptop", "scanner"));
+    assertEquals(1, changes.size());
+    ParameterChange change = changes.getParameterChanges().get(0);
+    assertEquals("Device.Hosts.Host.2.HostName", change.getPath());
+    assertEquals("printer", change.getOldValue());
+    assertEquals("scanner", change.getNewValue());
+  }
+
+  @Test
+  public void testRows() {
+    Device before = device("laptop", "printer");
+    Device after = device("laptop");
+    ((InstanceTable<Host>) after.getHosts().getHosts()).put(3, new Host().withHostName("phone"));
+    ChangeSet changes = differ.diff(before, after);
+    assertEquals(1, changes.getDeletedInstances().size());
+    assertEquals("Device.Hosts.Host.2.", changes.getDeletedInstances().get(0).getPath());
+    assertEquals(1, changes.getAddedInstances().size());
+    assertEquals("Device.Hosts.Host.3.", changes.getAddedInstances().get(0).getPath());
+  }
+
+  @Test
+  public void testPatch() throws JAXBException {
+    Device before = device("laptop", "printer");
+    Device after = device("desktop");
+    ((InstanceTable<Host>) after.getHosts().getHosts()).put(3, new Host().withHostName("phone"));
+    differ.patch(before, differ.diff(before, after));
+    assertTrue(differ.diff(before, after).isEmpty());
+    assertEquals(xml(after), xml(before));
+  }
+
+  @Test
+  public void testRemovedObject() throws JAXBException {
+    Device before = device("laptop").withDsl(new DSL().withLine(new Line().withLastChange(5L)));
+    Device after = device("laptop");
+    ChangeSet changes = differ.diff(before, after);
+    assertEquals(1, changes.getRemovedObjects().size());
+    assertEquals("Device.DSL.", changes.getRemovedObjects().get(0).getPath());
+    assertEquals("Device.DSL.Line.1.", changes.getDeletedInstances().get(0).getPath());
+    differ.patch(before, changes);
+    assertNull(before.getDsl());
+    assertTrue(differ.diff(before, after).isEmpty());
+    assertEquals(xml(after), xml(before));
+
+    before.withDsl(new DSL());
+    changes = differ.diff(before, after);
+    assertEquals(1, changes.size());
+    differ.patch(before, changes);
+    assertNull(before.getDsl());
+  }
+
+  @Test
+  public void testAddedObject() throws JAXBException {
+    Device before = device("laptop");
+    Device after = device("laptop").withDsl(new DSL());
+    ChangeSet changes = differ.diff(before, after);
+    assertEquals(1, changes.size());
+    assertEquals("Device.DSL.", changes.getAddedObjects().get(0).getPath());
+    differ.patch(before, changes);
+    assertNotNull(before.getDsl());
+    assertTrue(differ.diff(before, after).isEmpty());
+    assertEquals(xml(after), xml(before));
+  }
+
+  private static Device device(String... hostNames) {
+    Hosts hosts = new Hosts();
+    for (String hostName : hostNames) {
+      hosts.withHost(new Host().withHostName(hostName));
+    }
+    return new Device().withHosts(hosts);
+  }
+
+  private static String xml(Device device) throws JAXBException {
+    StringWriter writer = new StringWriter();
+    JAXBContext.newInstance(Device.class).createMarshaller().marshal(device, writer);
+    return writer.toString();
+  }
+
+}
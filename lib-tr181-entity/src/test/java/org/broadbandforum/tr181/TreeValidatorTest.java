@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Key Bridge.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.broadbandforum.tr181;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.List;
+import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.MACAddress;
+import org.broadbandforum.common.UUID;
+import org.broadbandforum.metamodel.TreeValidator;
+import org.broadbandforum.metamodel.Violation;
+import org.broadbandforum.tr181.device.Ethernet;
+import org.broadbandforum.tr181.device.UPnP;
+import org.broadbandforum.tr181.device.ethernet.Interface;
+import org.broadbandforum.tr181.device.upnp.Description;
+import org.broadbandforum.tr181.device.upnp.description.DeviceInstance;
+import org.junit.Test;
+
+/**
+ * @author Key Bridge
+ * @since 1.0.1 created 17/10/2026
+ */
+public class TreeValidatorTest {
+
+  private final TreeValidator validator = TreeValidator.of(Device.class);
+
+  @Test
+  public void testValidTree() {
+    Device device = new Device()
+      .withEthernet(new Ethernet().withInterface(new Interface()
+        .withAlias(Alias.valueOf("cpe-eth-1"))
+        .withMacAddress(MACAddress.of("00:1A:2B:3C:4D:5E"))))
+      .withUpnP(new UPnP().withDescription(new Description().withDeviceInstance(new DeviceInstance()
+        .withUdn(new UUID().withValue("2fac1234-31f8-11b4-a222-08002b34c003")))));
+    assertTrue(validator.validate(device).isEmpty());
+  }
+
+  @Test
+  public void testMACAddressViolation() {
+    assertViolation(new Device().withEthernet(new Ethernet().withInterface(new Interface()
+      .withMacAddress(MACAddress.of("00:1A:2B")))), "Device.Ethernet.Interface.1.MACAddress");
+  }
+
+  @Test
+  public void testAliasLengthViolation() {
+    StringBuilder alias = new StringBuilder("cpe-");
+    while (alias.length() <= 64) {
+      alias.append('x');
+    }
+    assertViolation(new Device().withEthernet(new Ethernet().withInterface(new Interface()
+      .withAlias(Alias.valueOf(alias.toString())))), "Device.Ethernet.Interface.1.Alias");
+  }
+
+  @Test
+  public void testUUIDPatternViolation() {
+    assertViolation(new Device().withUpnP(new UPnP().withDescription(new Description().withDeviceInstance(new DeviceInstance()
+      .withUdn(new UUID().withValue("2fac1234-31f8-11b4-a222-08002b34c0zz"))))),
+                    "Device.UPnP.Description.DeviceInstance.1.UDN");
+  }
+
+  private void assertViolation(Device device, String path) {
+    List<Violation> violations = validator.validate(device);
+    assertEquals(violations.toString(), 1, violations.size());
+    assertEquals(path, violations.get(0).getPath());
+  }
+
+}
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.AccessMgmt;
 import org.broadbandforum.tr196.fapservice.Capabilities;
 import org.broadbandforum.tr196.fapservice.CellConfig;
@@ -98,6 +100,16 @@ public class FAPService {
 	@XmlElement(name = "Transport")
 	public Transport transport;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public FAPService() {
 	}
 
@@ -120,6 +132,8 @@ public class FAPService {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -131,6 +145,8 @@ public class FAPService {
 	 */
 	public FAPService withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -152,6 +168,7 @@ public class FAPService {
 	 */
 	public void  setDeviceType(String deviceType) {
 		this.deviceType = deviceType;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -163,6 +180,7 @@ public class FAPService {
 	 */
 	public FAPService withDeviceType(String deviceType) {
 		this.deviceType = deviceType;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -184,6 +202,7 @@ public class FAPService {
 	 */
 	public void  setDnprefix(String dnprefix) {
 		this.dnprefix = dnprefix;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -195,6 +214,7 @@ public class FAPService {
 	 */
 	public FAPService withDnprefix(String dnprefix) {
 		this.dnprefix = dnprefix;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.capabilities.CDMA2000;
 import org.broadbandforum.tr196.fapservice.capabilities.LTE;
 import org.broadbandforum.tr196.fapservice.capabilities.UMTS;
@@ -89,6 +91,11 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	@XmlElement(name = "CDMA2000")
 	public CDMA2000 cdmA2000;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Capabilities() {
 	}
 
@@ -111,6 +118,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public void  setGpsEquipped(Boolean gpsEquipped) {
 		this.gpsEquipped = gpsEquipped;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +130,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public Capabilities withGpsEquipped(Boolean gpsEquipped) {
 		this.gpsEquipped = gpsEquipped;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +152,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public void  setMaxTxPower(Long maxTxPower) {
 		this.maxTxPower = maxTxPower;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +164,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public Capabilities withMaxTxPower(Long maxTxPower) {
 		this.maxTxPower = maxTxPower;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -170,6 +181,19 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 		return supportedSystems;
 	}
 
+	/**
+	 * Read the {{list}} Each entry is a type of system that the FAP supports. 
+
+Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSupportedSystems() {
+		return supportedSystems == null ? Collections.emptyList() : supportedSystems;
+	}
+
 	/**
 	 * Set the {{list}} Each entry is a type of system that the FAP supports. 
 
@@ -180,6 +204,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public void  setSupportedSystems(Collection<String> supportedSystems) {
 		this.supportedSystems = supportedSystems;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -193,6 +218,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public Capabilities withSupportedSystems(String string) {
 		getSupportedSystems().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -214,6 +240,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public void  setBeacon(Boolean beacon) {
 		this.beacon = beacon;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -225,6 +252,7 @@ Enumerated value must be one of [UMTS, LTE, CDMA1x, CDMAHRPD]
 	 */
 	public Capabilities withBeacon(Boolean beacon) {
 		this.beacon = beacon;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
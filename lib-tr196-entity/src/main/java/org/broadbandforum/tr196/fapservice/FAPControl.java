@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.fapcontrol.CDMA2000;
 import org.broadbandforum.tr196.fapservice.fapcontrol.LTE;
 import org.broadbandforum.tr196.fapservice.fapcontrol.UMTS;
@@ -81,6 +83,11 @@ Tampering state MUST be persisted across reboots and the device MUST never reset
 	@XmlElement(name = "CDMA2000")
 	public CDMA2000 cdmA2000;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FAPControl() {
 	}
 
@@ -98,6 +105,19 @@ Vendors can extend the enumerated values with vendor-specific extensions, in whi
 		return selfConfigEvents;
 	}
 
+	/**
+	 * Read the {{list}}  Each item is an event that causes the FAP to perform self configuration as defined by {{object|.FAPControl.UMTS.SelfConfig.}}, {{object|.FAPControl.CDMA2000.OneX.SelfConfig.}}, or {{object|.FAPControl.CDMA2000.HRPD.SelfConfig.}}.
+
+Vendors can extend the enumerated values with vendor-specific extensions, in which case the rules outlined in {{bibref|TR-106a2|Section3.3}} MUST be adhered to.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSelfConfigEvents() {
+		return selfConfigEvents == null ? Collections.emptyList() : selfConfigEvents;
+	}
+
 	/**
 	 * Set the {{list}}  Each item is an event that causes the FAP to perform self configuration as defined by {{object|.FAPControl.UMTS.SelfConfig.}}, {{object|.FAPControl.CDMA2000.OneX.SelfConfig.}}, or {{object|.FAPControl.CDMA2000.HRPD.SelfConfig.}}.
 
@@ -108,6 +128,7 @@ Vendors can extend the enumerated values with vendor-specific extensions, in whi
 	 */
 	public void  setSelfConfigEvents(Collection<String> selfConfigEvents) {
 		this.selfConfigEvents = selfConfigEvents;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -121,6 +142,7 @@ Vendors can extend the enumerated values with vendor-specific extensions, in whi
 	 */
 	public FAPControl withSelfConfigEvents(String string) {
 		getSelfConfigEvents().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -154,6 +176,7 @@ Tampering state MUST be persisted across reboots and the device MUST never reset
 	 */
 	public void  setEnclosureTamperingDetected(Boolean enclosureTamperingDetected) {
 		this.enclosureTamperingDetected = enclosureTamperingDetected;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -171,6 +194,7 @@ Tampering state MUST be persisted across reboots and the device MUST never reset
 	 */
 	public FAPControl withEnclosureTamperingDetected(Boolean enclosureTamperingDetected) {
 		this.enclosureTamperingDetected = enclosureTamperingDetected;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.accessmgmt;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.accessmgmt.cdma2000.LocalIPAccess;
 import org.broadbandforum.tr196.fapservice.accessmgmt.cdma2000.MemberDetail;
 
@@ -87,6 +89,11 @@ public class CDMA2000 {
 	@XmlElement(name = "LocalIPAccess")
 	public LocalIPAccess localIPAccess;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDMA2000() {
 	}
 
@@ -109,6 +116,7 @@ public class CDMA2000 {
 	 */
 	public void  setAccessMode(Long accessMode) {
 		this.accessMode = accessMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -120,6 +128,7 @@ public class CDMA2000 {
 	 */
 	public CDMA2000 withAccessMode(Long accessMode) {
 		this.accessMode = accessMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -141,6 +150,7 @@ public class CDMA2000 {
 	 */
 	public void  setMaxTotalActiveCallsAllowed(Long maxTotalActiveCallsAllowed) {
 		this.maxTotalActiveCallsAllowed = maxTotalActiveCallsAllowed;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -152,6 +162,7 @@ public class CDMA2000 {
 	 */
 	public CDMA2000 withMaxTotalActiveCallsAllowed(Long maxTotalActiveCallsAllowed) {
 		this.maxTotalActiveCallsAllowed = maxTotalActiveCallsAllowed;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -173,6 +184,7 @@ public class CDMA2000 {
 	 */
 	public void  setAccessControlList(String accessControlList) {
 		this.accessControlList = accessControlList;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -184,6 +196,7 @@ public class CDMA2000 {
 	 */
 	public CDMA2000 withAccessControlList(String accessControlList) {
 		this.accessControlList = accessControlList;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -205,6 +218,7 @@ public class CDMA2000 {
 	 */
 	public void  setMaxMemberDetailEntries(Long maxMemberDetailEntries) {
 		this.maxMemberDetailEntries = maxMemberDetailEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -216,6 +230,7 @@ public class CDMA2000 {
 	 */
 	public CDMA2000 withMaxMemberDetailEntries(Long maxMemberDetailEntries) {
 		this.maxMemberDetailEntries = maxMemberDetailEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -225,10 +240,20 @@ public class CDMA2000 {
 	 * @return the value
 	 */
 	public Collection<MemberDetail> getMemberDetails() {
-		if (this.memberDetails == null){ this.memberDetails=new ArrayList<>();}
+		if (!(this.memberDetails instanceof InstanceTable)){ this.memberDetails=InstanceTable.of(this.memberDetails);}
 		return memberDetails;
 	}
 
+	/**
+	 * Get at most one enabled entry in this table can exist with a given value for IMSI and HRPDIdentifierValue. The IMSI field may be empty.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<MemberDetail> viewMemberDetails() {
+		return memberDetails == null ? Collections.emptyList() : memberDetails;
+	}
+
 	/**
 	 * Set at most one enabled entry in this table can exist with a given value for IMSI and HRPDIdentifierValue. The IMSI field may be empty.
 	 *
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.accessmgmt.lte.LocalIPAccess;
 
 	/**
@@ -110,6 +111,11 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	@XmlElement(name = "LocalIPAccess")
 	public LocalIPAccess localIPAccess;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LTE() {
 	}
 
@@ -136,6 +142,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public void  setAccessMode(String accessMode) {
 		this.accessMode = accessMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -149,6 +156,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public LTE withAccessMode(String accessMode) {
 		this.accessMode = accessMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -170,6 +178,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public void  setMaxUEsServed(Integer maxUEsServed) {
 		this.maxUEsServed = maxUEsServed;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -181,6 +190,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public LTE withMaxUEsServed(Integer maxUEsServed) {
 		this.maxUEsServed = maxUEsServed;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -202,6 +212,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public void  setMaxCSGMembers(Integer maxCSGMembers) {
 		this.maxCSGMembers = maxCSGMembers;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -213,6 +224,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public LTE withMaxCSGMembers(Integer maxCSGMembers) {
 		this.maxCSGMembers = maxCSGMembers;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -234,6 +246,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public void  setMaxNonCSGMembers(Integer maxNonCSGMembers) {
 		this.maxNonCSGMembers = maxNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -245,6 +258,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public LTE withMaxNonCSGMembers(Integer maxNonCSGMembers) {
 		this.maxNonCSGMembers = maxNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -266,6 +280,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public void  setMaxResourceNonCSGMembers(Long maxResourceNonCSGMembers) {
 		this.maxResourceNonCSGMembers = maxResourceNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -277,6 +292,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public LTE withMaxResourceNonCSGMembers(Long maxResourceNonCSGMembers) {
 		this.maxResourceNonCSGMembers = maxResourceNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -298,6 +314,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public void  setCsgID(Long csgID) {
 		this.csgID = csgID;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -309,6 +326,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public LTE withCsgID(Long csgID) {
 		this.csgID = csgID;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -330,6 +348,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public void  setHnbName(String hnbName) {
 		this.hnbName = hnbName;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -341,6 +360,7 @@ Note: This parameter controls the setting of the CSGindicator bit, specified in
 	 */
 	public LTE withHnbName(String hnbName) {
 		this.hnbName = hnbName;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
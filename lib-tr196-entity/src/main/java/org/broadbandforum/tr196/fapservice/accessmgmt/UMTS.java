@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.accessmgmt;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.accessmgmt.umts.LocalIPAccess;
 import org.broadbandforum.tr196.fapservice.accessmgmt.umts.MemberDetail;
 
@@ -163,6 +166,11 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	@XmlElement(name = "LocalIPAccess")
 	public LocalIPAccess localIPAccess;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UMTS() {
 	}
 
@@ -189,6 +197,7 @@ When the value is not {{enum|Open Access}} non-CSG-capable UE are handled accord
 	 */
 	public void  setAccessMode(String accessMode) {
 		this.accessMode = accessMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -202,6 +211,7 @@ When the value is not {{enum|Open Access}} non-CSG-capable UE are handled accord
 	 */
 	public UMTS withAccessMode(String accessMode) {
 		this.accessMode = accessMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -223,6 +233,7 @@ When the value is not {{enum|Open Access}} non-CSG-capable UE are handled accord
 	 */
 	public void  setNonCSGUEAccessDecision(String nonCSGUEAccessDecision) {
 		this.nonCSGUEAccessDecision = nonCSGUEAccessDecision;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -234,6 +245,7 @@ When the value is not {{enum|Open Access}} non-CSG-capable UE are handled accord
 	 */
 	public UMTS withNonCSGUEAccessDecision(String nonCSGUEAccessDecision) {
 		this.nonCSGUEAccessDecision = nonCSGUEAccessDecision;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -271,6 +283,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setCsgMembershipDeterminedLocally(Boolean csgMembershipDeterminedLocally) {
 		this.csgMembershipDeterminedLocally = csgMembershipDeterminedLocally;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -290,6 +303,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withCsgMembershipDeterminedLocally(Boolean csgMembershipDeterminedLocally) {
 		this.csgMembershipDeterminedLocally = csgMembershipDeterminedLocally;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -311,6 +325,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setMaxUEsServed(Integer maxUEsServed) {
 		this.maxUEsServed = maxUEsServed;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -322,6 +337,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withMaxUEsServed(Integer maxUEsServed) {
 		this.maxUEsServed = maxUEsServed;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -343,6 +359,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setMaxCSGMembers(Integer maxCSGMembers) {
 		this.maxCSGMembers = maxCSGMembers;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -354,6 +371,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withMaxCSGMembers(Integer maxCSGMembers) {
 		this.maxCSGMembers = maxCSGMembers;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -375,6 +393,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setMaxNonCSGMembers(Integer maxNonCSGMembers) {
 		this.maxNonCSGMembers = maxNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -386,6 +405,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withMaxNonCSGMembers(Integer maxNonCSGMembers) {
 		this.maxNonCSGMembers = maxNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -407,6 +427,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setMaxResourceNonCSGMembers(Long maxResourceNonCSGMembers) {
 		this.maxResourceNonCSGMembers = maxResourceNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -418,6 +439,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withMaxResourceNonCSGMembers(Long maxResourceNonCSGMembers) {
 		this.maxResourceNonCSGMembers = maxResourceNonCSGMembers;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -439,6 +461,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setHnbName(String hnbName) {
 		this.hnbName = hnbName;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -450,6 +473,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withHnbName(String hnbName) {
 		this.hnbName = hnbName;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -471,6 +495,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setCsgID(Long csgID) {
 		this.csgID = csgID;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -482,6 +507,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withCsgID(Long csgID) {
 		this.csgID = csgID;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -496,6 +522,17 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 		return accessControlList;
 	}
 
+	/**
+	 * Read the {{list}} Each entry is an IMSI.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAccessControlList() {
+		return accessControlList == null ? Collections.emptyList() : accessControlList;
+	}
+
 	/**
 	 * Set the {{list}} Each entry is an IMSI.
 	 *
@@ -504,6 +541,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setAccessControlList(Collection<String> accessControlList) {
 		this.accessControlList = accessControlList;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -515,6 +553,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withAccessControlList(String string) {
 		getAccessControlList().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -536,6 +575,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public void  setMaxMemberDetailEntries(Long maxMemberDetailEntries) {
 		this.maxMemberDetailEntries = maxMemberDetailEntries;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -547,6 +587,7 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 */
 	public UMTS withMaxMemberDetailEntries(Long maxMemberDetailEntries) {
 		this.maxMemberDetailEntries = maxMemberDetailEntries;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -556,10 +597,20 @@ CSG enforcement is performed by MSC/SGSN (with support from HSS), or by FGW.
 	 * @return the value
 	 */
 	public Collection<MemberDetail> getMemberDetails() {
-		if (this.memberDetails == null){ this.memberDetails=new ArrayList<>();}
+		if (!(this.memberDetails instanceof InstanceTable)){ this.memberDetails=InstanceTable.of(this.memberDetails);}
 		return memberDetails;
 	}
 
+	/**
+	 * Read the details for CSG and Non-CSG members.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<MemberDetail> viewMemberDetails() {
+		return memberDetails == null ? Collections.emptyList() : memberDetails;
+	}
+
 	/**
 	 * Set the details for CSG and Non-CSG members.
 	 *
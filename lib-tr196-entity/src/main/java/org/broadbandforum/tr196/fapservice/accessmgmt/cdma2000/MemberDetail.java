@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * At most one enabled entry in this table can exist with a given value for IMSI and HRPDIdentifierValue. The IMSI field may be empty.
@@ -88,8 +92,19 @@ public class MemberDetail {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "MembershipExpires")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime membershipExpires = LocalDateTime.parse("");;
+	public LocalDateTime membershipExpires;
+
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
 
 	public MemberDetail() {
 	}
@@ -113,6 +128,7 @@ public class MemberDetail {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -124,6 +140,7 @@ public class MemberDetail {
 	 */
 	public MemberDetail withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -145,6 +162,8 @@ public class MemberDetail {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -156,6 +175,8 @@ public class MemberDetail {
 	 */
 	public MemberDetail withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -177,6 +198,8 @@ public class MemberDetail {
 	 */
 	public void  setImsI(String imsI) {
 		this.imsI = imsI;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -188,6 +211,8 @@ public class MemberDetail {
 	 */
 	public MemberDetail withImsI(String imsI) {
 		this.imsI = imsI;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -209,6 +234,7 @@ public class MemberDetail {
 	 */
 	public void  setHrpDIdentifierType(Integer hrpDIdentifierType) {
 		this.hrpDIdentifierType = hrpDIdentifierType;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -220,6 +246,7 @@ public class MemberDetail {
 	 */
 	public MemberDetail withHrpDIdentifierType(Integer hrpDIdentifierType) {
 		this.hrpDIdentifierType = hrpDIdentifierType;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -241,6 +268,7 @@ public class MemberDetail {
 	 */
 	public void  setHrpDIdentifierValue(String hrpDIdentifierValue) {
 		this.hrpDIdentifierValue = hrpDIdentifierValue;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -252,6 +280,7 @@ public class MemberDetail {
 	 */
 	public MemberDetail withHrpDIdentifierValue(String hrpDIdentifierValue) {
 		this.hrpDIdentifierValue = hrpDIdentifierValue;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -273,6 +302,7 @@ public class MemberDetail {
 	 */
 	public void  setMembershipExpires(LocalDateTime membershipExpires) {
 		this.membershipExpires = membershipExpires;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -284,6 +314,7 @@ public class MemberDetail {
 	 */
 	public MemberDetail withMembershipExpires(LocalDateTime membershipExpires) {
 		this.membershipExpires = membershipExpires;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.accessmgmt.cdma2000.localipaccess;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.accessmgmt.cdma2000.localipaccess.hrpd.EgressFilter;
 
 	/**
@@ -64,6 +66,11 @@ public class HRPD {
 	@CWMPParameter(access = "readWrite", minEntries = 1)
 	public Collection<EgressFilter> egressFilters;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HRPD() {
 	}
 
@@ -86,6 +93,7 @@ public class HRPD {
 	 */
 	public void  setFilterType(Long filterType) {
 		this.filterType = filterType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -97,6 +105,7 @@ public class HRPD {
 	 */
 	public HRPD withFilterType(Long filterType) {
 		this.filterType = filterType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -118,6 +127,7 @@ public class HRPD {
 	 */
 	public void  setFilterInUse(String filterInUse) {
 		this.filterInUse = filterInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -129,6 +139,7 @@ public class HRPD {
 	 */
 	public HRPD withFilterInUse(String filterInUse) {
 		this.filterInUse = filterInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -138,10 +149,20 @@ public class HRPD {
 	 * @return the value
 	 */
 	public Collection<EgressFilter> getEgressFilters() {
-		if (this.egressFilters == null){ this.egressFilters=new ArrayList<>();}
+		if (!(this.egressFilters instanceof InstanceTable)){ this.egressFilters=InstanceTable.of(this.egressFilters);}
 		return egressFilters;
 	}
 
+	/**
+	 * Read the hrpD LIPA Egress Filter Table entries.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<EgressFilter> viewEgressFilters() {
+		return egressFilters == null ? Collections.emptyList() : egressFilters;
+	}
+
 	/**
 	 * Set the hrpD LIPA Egress Filter Table entries.
 	 *
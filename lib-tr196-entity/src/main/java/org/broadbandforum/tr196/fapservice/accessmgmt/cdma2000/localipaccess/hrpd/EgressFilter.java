@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPv4Address;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * HRPD LIPA Egress Filter Table entries.
@@ -73,6 +75,16 @@ public class EgressFilter {
 	@Size(min = 0, max = 32)
 	public Long subnetMask = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public EgressFilter() {
 	}
 
@@ -95,6 +107,7 @@ public class EgressFilter {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -106,6 +119,7 @@ public class EgressFilter {
 	 */
 	public EgressFilter withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -127,6 +141,8 @@ public class EgressFilter {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -138,6 +154,8 @@ public class EgressFilter {
 	 */
 	public EgressFilter withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -159,6 +177,8 @@ public class EgressFilter {
 	 */
 	public void  setSubnet(IPv4Address subnet) {
 		this.subnet = subnet;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -170,6 +190,8 @@ public class EgressFilter {
 	 */
 	public EgressFilter withSubnet(IPv4Address subnet) {
 		this.subnet = subnet;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -191,6 +213,8 @@ public class EgressFilter {
 	 */
 	public void  setSubnetMask(Long subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -202,6 +226,8 @@ public class EgressFilter {
 	 */
 	public EgressFilter withSubnetMask(Long subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
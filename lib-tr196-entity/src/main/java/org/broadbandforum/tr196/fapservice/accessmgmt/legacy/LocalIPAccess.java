@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.accessmgmt.legacy;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.accessmgmt.legacy.localipaccess.Rule;
 
 	/**
@@ -61,6 +63,11 @@ public class LocalIPAccess {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Rule> rules;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LocalIPAccess() {
 	}
 
@@ -83,6 +90,7 @@ public class LocalIPAccess {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -94,6 +102,7 @@ public class LocalIPAccess {
 	 */
 	public LocalIPAccess withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -115,6 +124,7 @@ public class LocalIPAccess {
 	 */
 	public void  setMaxRulesEntries(Long maxRulesEntries) {
 		this.maxRulesEntries = maxRulesEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -126,6 +136,7 @@ public class LocalIPAccess {
 	 */
 	public LocalIPAccess withMaxRulesEntries(Long maxRulesEntries) {
 		this.maxRulesEntries = maxRulesEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -135,10 +146,20 @@ public class LocalIPAccess {
 	 * @return the value
 	 */
 	public Collection<Rule> getRules() {
-		if (this.rules == null){ this.rules=new ArrayList<>();}
+		if (!(this.rules instanceof InstanceTable)){ this.rules=InstanceTable.of(this.rules);}
 		return rules;
 	}
 
+	/**
+	 * Read the policy for selecting traffic for local IP access. Originated traffic will be NAT'ed. The rule is bi-directional, i.e. return traffic is allowed. Rules do NOT affect traffic to/from the FAP itself (such as TR-069 or control). The rules are applied to the mobile station data traffic (PS-domain) via deep packet inspection or similar method.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Rule> viewRules() {
+		return rules == null ? Collections.emptyList() : rules;
+	}
+
 	/**
 	 * Set the policy for selecting traffic for local IP access. Originated traffic will be NAT'ed. The rule is bi-directional, i.e. return traffic is allowed. Rules do NOT affect traffic to/from the FAP itself (such as TR-069 or control). The rules are applied to the mobile station data traffic (PS-domain) via deep packet inspection or similar method.
 	 *
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Policy for selecting traffic for local IP access. Originated traffic will be NAT'ed. The rule is bi-directional, i.e. return traffic is allowed. Rules do NOT affect traffic to/from the FAP itself (such as TR-069 or control). The rules are applied to the mobile station data traffic (PS-domain) via deep packet inspection or similar method.
@@ -102,6 +104,16 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	@Size(max = 256)
 	public String _interface;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Rule() {
 	}
 
@@ -124,6 +136,7 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +148,7 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public Rule withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +170,8 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -167,6 +183,8 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public Rule withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -188,6 +206,8 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public void  setDestIPAddress(IPAddress destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -199,6 +219,8 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public Rule withDestIPAddress(IPAddress destIPAddress) {
 		this.destIPAddress = destIPAddress;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -224,6 +246,8 @@ An entry for which {{param|DestIPAddress}} and {{param}} are both {{empty}} is a
 	 */
 	public void  setDestSubnetMask(IPAddress destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -237,6 +261,8 @@ An entry for which {{param|DestIPAddress}} and {{param}} are both {{empty}} is a
 	 */
 	public Rule withDestSubnetMask(IPAddress destSubnetMask) {
 		this.destSubnetMask = destSubnetMask;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -258,6 +284,8 @@ An entry for which {{param|DestIPAddress}} and {{param}} are both {{empty}} is a
 	 */
 	public void  setProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -269,6 +297,8 @@ An entry for which {{param|DestIPAddress}} and {{param}} are both {{empty}} is a
 	 */
 	public Rule withProtocol(Integer protocol) {
 		this.protocol = protocol;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -290,6 +320,7 @@ An entry for which {{param|DestIPAddress}} and {{param}} are both {{empty}} is a
 	 */
 	public void  setAction(String action) {
 		this.action = action;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -301,6 +332,7 @@ An entry for which {{param|DestIPAddress}} and {{param}} are both {{empty}} is a
 	 */
 	public Rule withAction(String action) {
 		this.action = action;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -326,6 +358,7 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public void  set_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -339,6 +372,7 @@ Example: InternetGatewayDevice.LANDevice.{i}.LANEthernetInterfaceConfig.{i}.
 	 */
 	public Rule with_interface(String _interface) {
 		this._interface = _interface;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
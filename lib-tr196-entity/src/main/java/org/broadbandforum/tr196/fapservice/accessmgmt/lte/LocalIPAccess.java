@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Local IP access for LTE FAP.
@@ -43,6 +44,11 @@ public class LocalIPAccess {
 	@CWMPParameter(access = "readWrite")
 	public Boolean enable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LocalIPAccess() {
 	}
 
@@ -65,6 +71,7 @@ public class LocalIPAccess {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -76,6 +83,7 @@ public class LocalIPAccess {
 	 */
 	public LocalIPAccess withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
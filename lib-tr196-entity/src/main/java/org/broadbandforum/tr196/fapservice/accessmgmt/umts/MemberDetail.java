@@ -22,10 +22,15 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.CWMPDateTime;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Details for CSG and Non-CSG members.
@@ -83,8 +88,19 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 * @since 2.0
 	 */
 	@XmlElement(name = "MembershipExpires")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
-	public LocalDateTime membershipExpires = LocalDateTime.parse("0001-01-01T00:00:00Z");;
+	public LocalDateTime membershipExpires = CWMPDateTime.UNKNOWN_TIME;
+
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
 
 	public MemberDetail() {
 	}
@@ -108,6 +124,7 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +136,7 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public MemberDetail withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +158,8 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -151,6 +171,8 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public MemberDetail withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -172,6 +194,8 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public void  setImsI(String imsI) {
 		this.imsI = imsI;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -183,6 +207,8 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public MemberDetail withImsI(String imsI) {
 		this.imsI = imsI;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -204,6 +230,7 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public void  setMsiSDN(String msiSDN) {
 		this.msiSDN = msiSDN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -215,6 +242,7 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public MemberDetail withMsiSDN(String msiSDN) {
 		this.msiSDN = msiSDN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -244,6 +272,7 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public void  setMembershipExpires(LocalDateTime membershipExpires) {
 		this.membershipExpires = membershipExpires;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -259,6 +288,7 @@ Upon expiry the FAP MUST remove the IMSI from the {{param|.AccessMgmt.UMTS.Acces
 	 */
 	public MemberDetail withMembershipExpires(LocalDateTime membershipExpires) {
 		this.membershipExpires = membershipExpires;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
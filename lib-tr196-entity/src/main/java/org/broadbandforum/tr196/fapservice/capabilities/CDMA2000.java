@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.capabilities.cdma2000.HRPD;
 import org.broadbandforum.tr196.fapservice.capabilities.cdma2000.OneX;
 
@@ -66,6 +68,11 @@ public class CDMA2000 {
 	@XmlElement(name = "HRPD")
 	public HRPD hrpD;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDMA2000() {
 	}
 
@@ -88,6 +95,7 @@ public class CDMA2000 {
 	 */
 	public void  setRemoteIPAccessCapable(Boolean remoteIPAccessCapable) {
 		this.remoteIPAccessCapable = remoteIPAccessCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -99,6 +107,7 @@ public class CDMA2000 {
 	 */
 	public CDMA2000 withRemoteIPAccessCapable(Boolean remoteIPAccessCapable) {
 		this.remoteIPAccessCapable = remoteIPAccessCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,6 +122,17 @@ public class CDMA2000 {
 		return bandClassSupportedFAPBeacon;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the band classes that the FAP supports for beacon transmission. One or multiple bands MAY be supported.  Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. List is empty if FAP can not support beacon transmissions.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBandClassSupportedFAPBeacon() {
+		return bandClassSupportedFAPBeacon == null ? Collections.emptyList() : bandClassSupportedFAPBeacon;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the band classes that the FAP supports for beacon transmission. One or multiple bands MAY be supported.  Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. List is empty if FAP can not support beacon transmissions.
 	 *
@@ -121,6 +141,7 @@ public class CDMA2000 {
 	 */
 	public void  setBandClassSupportedFAPBeacon(Collection<String> bandClassSupportedFAPBeacon) {
 		this.bandClassSupportedFAPBeacon = bandClassSupportedFAPBeacon;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +153,7 @@ public class CDMA2000 {
 	 */
 	public CDMA2000 withBandClassSupportedFAPBeacon(String string) {
 		getBandClassSupportedFAPBeacon().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the system and RF aspect of the FAP device that supports the LTE system.
@@ -147,6 +149,11 @@ The following are example values:
 	@XmlList
 	public Collection<String> cdmA2000RxBandsSupported;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LTE() {
 	}
 
@@ -169,6 +176,7 @@ The following are example values:
 	 */
 	public void  setDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -180,6 +188,7 @@ The following are example values:
 	 */
 	public LTE withDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -225,6 +234,7 @@ The followings are examples of valid values:
 	 */
 	public void  setBandsSupported(Long bandsSupported) {
 		this.bandsSupported = bandsSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -248,6 +258,7 @@ The followings are examples of valid values:
 	 */
 	public LTE withBandsSupported(Long bandsSupported) {
 		this.bandsSupported = bandsSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -269,6 +280,7 @@ The followings are examples of valid values:
 	 */
 	public void  setNnsFSupported(Boolean nnsFSupported) {
 		this.nnsFSupported = nnsFSupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -280,6 +292,7 @@ The followings are examples of valid values:
 	 */
 	public LTE withNnsFSupported(Boolean nnsFSupported) {
 		this.nnsFSupported = nnsFSupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -301,6 +314,7 @@ The followings are examples of valid values:
 	 */
 	public void  setUmtSRxSupported(Boolean umtSRxSupported) {
 		this.umtSRxSupported = umtSRxSupported;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -312,6 +326,7 @@ The followings are examples of valid values:
 	 */
 	public LTE withUmtSRxSupported(Boolean umtSRxSupported) {
 		this.umtSRxSupported = umtSRxSupported;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -338,6 +353,29 @@ The followings are examples of valid values:
 		return umtSRxBandsSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the UMTS receive bands that the LTE FAP supports {{bibref|3GPP-TS.25.104}}, Release 8. If {{param|UMTSRxSupported}} is {{true}}, then at least one band MUST be supported and multiple bands MAY be supported.
+
+Each individual band is identified by its upper case Roman numeral. The order of the band indicators in the string has no significance.
+
+In case a new band is defined in the 3GPP standard in a future release of {{bibref|3GPP-TS.25.104}}, the corresponding new upper case Roman numeral will be included in the valid band indicators.
+
+The followings are examples of valid values:
+
+:"I" (specifies only band-I is supported)
+
+:"I,II,V" (specifies 3 bands are supported)
+
+:"II,VII,I" (specifies 3 bands are supported)
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUmtSRxBandsSupported() {
+		return umtSRxBandsSupported == null ? Collections.emptyList() : umtSRxBandsSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the UMTS receive bands that the LTE FAP supports {{bibref|3GPP-TS.25.104}}, Release 8. If {{param|UMTSRxSupported}} is {{true}}, then at least one band MUST be supported and multiple bands MAY be supported.
 
@@ -358,6 +396,7 @@ The followings are examples of valid values:
 	 */
 	public void  setUmtSRxBandsSupported(Collection<String> umtSRxBandsSupported) {
 		this.umtSRxBandsSupported = umtSRxBandsSupported;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -381,6 +420,7 @@ The followings are examples of valid values:
 	 */
 	public LTE withUmtSRxBandsSupported(String string) {
 		getUmtSRxBandsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -402,6 +442,7 @@ The followings are examples of valid values:
 	 */
 	public void  setGsmRxSupported(Boolean gsmRxSupported) {
 		this.gsmRxSupported = gsmRxSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -413,6 +454,7 @@ The followings are examples of valid values:
 	 */
 	public LTE withGsmRxSupported(Boolean gsmRxSupported) {
 		this.gsmRxSupported = gsmRxSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -437,6 +479,27 @@ The following is an example of a valid value.
 		return gsmRxBandsSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the GSM receive bands that the LTE FAP supports {{bibref|3GPP-TS.45.005}}. If {{param|GSMRxSupported}} is {{true}}, then at least one band MUST be supported and multiple bands MAY be supported.
+
+{{bibref|3GPP-TS.45.005}} defines 14 GSM bands. 
+
+Enumerated value must be one of [T-GSM380, T-GSM410, GSM450, GSM480, GSM710, GSM750, T-GSM810, GSM850, P-GSM900, E-GSM900, R-GSM900, T-GSM900, DCS1800, PCS1900]
+
+The order of the band indicators in the string has no significance.
+
+The following is an example of a valid value.
+
+:"GSM850,PCS1900"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewGsmRxBandsSupported() {
+		return gsmRxBandsSupported == null ? Collections.emptyList() : gsmRxBandsSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the GSM receive bands that the LTE FAP supports {{bibref|3GPP-TS.45.005}}. If {{param|GSMRxSupported}} is {{true}}, then at least one band MUST be supported and multiple bands MAY be supported.
 
@@ -455,6 +518,7 @@ The following is an example of a valid value.
 	 */
 	public void  setGsmRxBandsSupported(Collection<String> gsmRxBandsSupported) {
 		this.gsmRxBandsSupported = gsmRxBandsSupported;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -476,6 +540,7 @@ The following is an example of a valid value.
 	 */
 	public LTE withGsmRxBandsSupported(String string) {
 		getGsmRxBandsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -497,6 +562,7 @@ The following is an example of a valid value.
 	 */
 	public void  setCdmA2000RxSupported(Boolean cdmA2000RxSupported) {
 		this.cdmA2000RxSupported = cdmA2000RxSupported;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -508,6 +574,7 @@ The following is an example of a valid value.
 	 */
 	public LTE withCdmA2000RxSupported(Boolean cdmA2000RxSupported) {
 		this.cdmA2000RxSupported = cdmA2000RxSupported;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -528,6 +595,23 @@ The following are example values:
 		return cdmA2000RxBandsSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the CDMA2000 receive bands that the LTE FAP supports. If {{param|CDMA2000RxSupported}} is {{true}}, then at least one band MUST be supported and multiple bands MAY be supported. The order of the band indicators in the string has no significance. Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057-B}}.
+
+The following are example values:
+
+:"0" (specifies US Cellular)
+
+:"1,3,14" (specifies US PCS, Japan Cellular and US PCS 1.9Ghz) specifies 3 bands are supported)
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCdmA2000RxBandsSupported() {
+		return cdmA2000RxBandsSupported == null ? Collections.emptyList() : cdmA2000RxBandsSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the CDMA2000 receive bands that the LTE FAP supports. If {{param|CDMA2000RxSupported}} is {{true}}, then at least one band MUST be supported and multiple bands MAY be supported. The order of the band indicators in the string has no significance. Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057-B}}.
 
@@ -542,6 +626,7 @@ The following are example values:
 	 */
 	public void  setCdmA2000RxBandsSupported(Collection<String> cdmA2000RxBandsSupported) {
 		this.cdmA2000RxBandsSupported = cdmA2000RxBandsSupported;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -559,6 +644,7 @@ The following are example values:
 	 */
 	public LTE withCdmA2000RxBandsSupported(String string) {
 		getCdmA2000RxBandsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
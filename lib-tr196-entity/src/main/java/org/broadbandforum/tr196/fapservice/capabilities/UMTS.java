@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.capabilities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.capabilities.umts.SelfConfig;
 
 	/**
@@ -142,6 +144,11 @@ The following is an example of a valid value.
 	@XmlElement(name = "SelfConfig")
 	public SelfConfig selfConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UMTS() {
 	}
 
@@ -164,6 +171,7 @@ The following is an example of a valid value.
 	 */
 	public void  setDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -175,6 +183,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withDuplexMode(String duplexMode) {
 		this.duplexMode = duplexMode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -196,6 +205,7 @@ The following is an example of a valid value.
 	 */
 	public void  setGsmRxSupported(Boolean gsmRxSupported) {
 		this.gsmRxSupported = gsmRxSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -207,6 +217,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withGsmRxSupported(Boolean gsmRxSupported) {
 		this.gsmRxSupported = gsmRxSupported;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -228,6 +239,7 @@ The following is an example of a valid value.
 	 */
 	public void  setHsdPASupported(Boolean hsdPASupported) {
 		this.hsdPASupported = hsdPASupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -239,6 +251,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withHsdPASupported(Boolean hsdPASupported) {
 		this.hsdPASupported = hsdPASupported;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -260,6 +273,7 @@ The following is an example of a valid value.
 	 */
 	public void  setMaxHSDPADataRateSupported(Long maxHSDPADataRateSupported) {
 		this.maxHSDPADataRateSupported = maxHSDPADataRateSupported;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -271,6 +285,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withMaxHSDPADataRateSupported(Long maxHSDPADataRateSupported) {
 		this.maxHSDPADataRateSupported = maxHSDPADataRateSupported;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -292,6 +307,7 @@ The following is an example of a valid value.
 	 */
 	public void  setHsuPASupported(Boolean hsuPASupported) {
 		this.hsuPASupported = hsuPASupported;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -303,6 +319,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withHsuPASupported(Boolean hsuPASupported) {
 		this.hsuPASupported = hsuPASupported;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -324,6 +341,7 @@ The following is an example of a valid value.
 	 */
 	public void  setMaxHSUPADataRateSupported(Long maxHSUPADataRateSupported) {
 		this.maxHSUPADataRateSupported = maxHSUPADataRateSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -335,6 +353,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withMaxHSUPADataRateSupported(Long maxHSUPADataRateSupported) {
 		this.maxHSUPADataRateSupported = maxHSUPADataRateSupported;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -356,6 +375,7 @@ The following is an example of a valid value.
 	 */
 	public void  setMaxHSPDSCHsSupported(Long maxHSPDSCHsSupported) {
 		this.maxHSPDSCHsSupported = maxHSPDSCHsSupported;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -367,6 +387,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withMaxHSPDSCHsSupported(Long maxHSPDSCHsSupported) {
 		this.maxHSPDSCHsSupported = maxHSPDSCHsSupported;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -388,6 +409,7 @@ The following is an example of a valid value.
 	 */
 	public void  setMaxHSSCCHsSupported(Long maxHSSCCHsSupported) {
 		this.maxHSSCCHsSupported = maxHSSCCHsSupported;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -399,6 +421,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withMaxHSSCCHsSupported(Long maxHSSCCHsSupported) {
 		this.maxHSSCCHsSupported = maxHSSCCHsSupported;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -427,6 +450,31 @@ The followings are examples of valid values:
 		return fddBandsSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the UMTS bands that the FAP supports {{bibref|3GPP-TS.25.104}}, Release 8. At least one band MUST be supported and multiple bands MAY be supported.
+
+{{bibref|3GPP-TS.25.104}} Version 8.3.0 defines 14 UMTS bands (I through XIV).
+
+Each individual band is identified by its upper case Roman numeral. The order of the band indicators in the string has no significance.
+
+In case a new band is defined in the 3GPP standard in a future release of {{bibref|3GPP-TS.25.104}}, the corresponding new upper case Roman numeral will be included in the valid band indicators.
+
+The followings are examples of valid values:
+
+:"I" (specifies only band-I is supported)
+
+:"I,II,V" (specifies 3 bands are supported)
+
+:"II,VII,I" (specifies 3 bands are supported)
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFddBandsSupported() {
+		return fddBandsSupported == null ? Collections.emptyList() : fddBandsSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the UMTS bands that the FAP supports {{bibref|3GPP-TS.25.104}}, Release 8. At least one band MUST be supported and multiple bands MAY be supported.
 
@@ -449,6 +497,7 @@ The followings are examples of valid values:
 	 */
 	public void  setFddBandsSupported(Collection<String> fddBandsSupported) {
 		this.fddBandsSupported = fddBandsSupported;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -474,6 +523,7 @@ The followings are examples of valid values:
 	 */
 	public UMTS withFddBandsSupported(String string) {
 		getFddBandsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -498,6 +548,27 @@ The following is an example of a valid value.
 		return gsmRxBandsSupported;
 	}
 
+	/**
+	 * Read the {{list}} Indicates the GSM receive bands that the FAP supports {{bibref|3GPP-TS.45.005}}. At least one band MUST be supported and multiple bands MAY be supported.
+
+{{bibref|3GPP-TS.45.005}} defines 14 GSM bands. 
+
+Enumerated value must be one of [T-GSM380, T-GSM410, GSM450, GSM480, GSM710, GSM750, T-GSM810, GSM850, P-GSM900, E-GSM900, R-GSM900, T-GSM900, DCS1800, PCS1900]
+
+The order of the band indicators in the string has no significance.
+
+The following is an example of a valid value.
+
+:"GSM850,PCS1900"
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewGsmRxBandsSupported() {
+		return gsmRxBandsSupported == null ? Collections.emptyList() : gsmRxBandsSupported;
+	}
+
 	/**
 	 * Set the {{list}} Indicates the GSM receive bands that the FAP supports {{bibref|3GPP-TS.45.005}}. At least one band MUST be supported and multiple bands MAY be supported.
 
@@ -516,6 +587,7 @@ The following is an example of a valid value.
 	 */
 	public void  setGsmRxBandsSupported(Collection<String> gsmRxBandsSupported) {
 		this.gsmRxBandsSupported = gsmRxBandsSupported;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -537,6 +609,7 @@ The following is an example of a valid value.
 	 */
 	public UMTS withGsmRxBandsSupported(String string) {
 		getGsmRxBandsSupported().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
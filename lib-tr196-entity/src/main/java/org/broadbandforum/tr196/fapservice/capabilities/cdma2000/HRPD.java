@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.capabilities.cdma2000.hrpd.SelfConfig;
 
 	/**
@@ -68,6 +69,11 @@ public class HRPD {
 	@XmlElement(name = "SelfConfig")
 	public SelfConfig selfConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HRPD() {
 	}
 
@@ -90,6 +96,7 @@ public class HRPD {
 	 */
 	public void  setA13SessionTransferCapable(Boolean a13SessionTransferCapable) {
 		this.a13SessionTransferCapable = a13SessionTransferCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -101,6 +108,7 @@ public class HRPD {
 	 */
 	public HRPD withA13SessionTransferCapable(Boolean a13SessionTransferCapable) {
 		this.a13SessionTransferCapable = a13SessionTransferCapable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,6 +130,7 @@ public class HRPD {
 	 */
 	public void  setA16SessionTransferCapable(Boolean a16SessionTransferCapable) {
 		this.a16SessionTransferCapable = a16SessionTransferCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -133,6 +142,7 @@ public class HRPD {
 	 */
 	public HRPD withA16SessionTransferCapable(Boolean a16SessionTransferCapable) {
 		this.a16SessionTransferCapable = a16SessionTransferCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -154,6 +164,7 @@ public class HRPD {
 	 */
 	public void  setLocalIPAccessCapable(Boolean localIPAccessCapable) {
 		this.localIPAccessCapable = localIPAccessCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -165,6 +176,7 @@ public class HRPD {
 	 */
 	public HRPD withLocalIPAccessCapable(Boolean localIPAccessCapable) {
 		this.localIPAccessCapable = localIPAccessCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -186,6 +198,7 @@ public class HRPD {
 	 */
 	public void  setDedicatedHRPDBeacon(Boolean dedicatedHRPDBeacon) {
 		this.dedicatedHRPDBeacon = dedicatedHRPDBeacon;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -197,6 +210,7 @@ public class HRPD {
 	 */
 	public HRPD withDedicatedHRPDBeacon(Boolean dedicatedHRPDBeacon) {
 		this.dedicatedHRPDBeacon = dedicatedHRPDBeacon;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
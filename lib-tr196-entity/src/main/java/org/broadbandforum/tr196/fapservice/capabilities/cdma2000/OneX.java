@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.capabilities.cdma2000.onex.SelfConfig;
 
 	/**
@@ -69,6 +70,11 @@ Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. The f
 	@XmlElement(name = "SelfConfig")
 	public SelfConfig selfConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public OneX() {
 	}
 
@@ -103,6 +109,7 @@ Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. The f
 	 */
 	public void  setBandClassSupportedFAP(String bandClassSupportedFAP) {
 		this.bandClassSupportedFAP = bandClassSupportedFAP;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -120,6 +127,7 @@ Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. The f
 	 */
 	public OneX withBandClassSupportedFAP(String bandClassSupportedFAP) {
 		this.bandClassSupportedFAP = bandClassSupportedFAP;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -141,6 +149,7 @@ Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. The f
 	 */
 	public void  setActiveHandinCapable(Boolean activeHandinCapable) {
 		this.activeHandinCapable = activeHandinCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -152,6 +161,7 @@ Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. The f
 	 */
 	public OneX withActiveHandinCapable(Boolean activeHandinCapable) {
 		this.activeHandinCapable = activeHandinCapable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -173,6 +183,7 @@ Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. The f
 	 */
 	public void  setFemtoOverheadMessagesCapable(Boolean femtoOverheadMessagesCapable) {
 		this.femtoOverheadMessagesCapable = femtoOverheadMessagesCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -184,6 +195,7 @@ Bandclass is a 1 or 2-digit number as defined in {{bibref|3GPP2-C.S0057}}. The f
 	 */
 	public OneX withFemtoOverheadMessagesCapable(Boolean femtoOverheadMessagesCapable) {
 		this.femtoOverheadMessagesCapable = femtoOverheadMessagesCapable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
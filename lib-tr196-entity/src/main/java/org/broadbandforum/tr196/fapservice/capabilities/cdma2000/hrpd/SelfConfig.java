@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the self-configuration capability attributes for the CDMA2000 HRPD radio technology portions of a CDMA2000 FAP.
@@ -62,6 +63,11 @@ public class SelfConfig {
 	@XmlElement(name = "MaxFAPBeaconTxPowerConfig")
 	public Boolean maxFAPBeaconTxPowerConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SelfConfig() {
 	}
 
@@ -84,6 +90,7 @@ public class SelfConfig {
 	 */
 	public void  setRfcNFLConfig(Boolean rfcNFLConfig) {
 		this.rfcNFLConfig = rfcNFLConfig;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withRfcNFLConfig(Boolean rfcNFLConfig) {
 		this.rfcNFLConfig = rfcNFLConfig;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class SelfConfig {
 	 */
 	public void  setPilotPNConfig(Boolean pilotPNConfig) {
 		this.pilotPNConfig = pilotPNConfig;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withPilotPNConfig(Boolean pilotPNConfig) {
 		this.pilotPNConfig = pilotPNConfig;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class SelfConfig {
 	 */
 	public void  setMaxFAPTxPowerConfig(Boolean maxFAPTxPowerConfig) {
 		this.maxFAPTxPowerConfig = maxFAPTxPowerConfig;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -159,6 +170,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withMaxFAPTxPowerConfig(Boolean maxFAPTxPowerConfig) {
 		this.maxFAPTxPowerConfig = maxFAPTxPowerConfig;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -180,6 +192,7 @@ public class SelfConfig {
 	 */
 	public void  setMaxFAPBeaconTxPowerConfig(Boolean maxFAPBeaconTxPowerConfig) {
 		this.maxFAPBeaconTxPowerConfig = maxFAPBeaconTxPowerConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -191,6 +204,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withMaxFAPBeaconTxPowerConfig(Boolean maxFAPBeaconTxPowerConfig) {
 		this.maxFAPBeaconTxPowerConfig = maxFAPBeaconTxPowerConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
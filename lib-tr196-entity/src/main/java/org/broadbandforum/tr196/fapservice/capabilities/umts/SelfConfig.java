@@ -21,6 +21,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the self-configuration capabilities of the FAP. Self-configuration is enabled in {{object|.FAPControl.UMTS.SelfConfig.}}
@@ -177,6 +178,11 @@ If {{false}} {{param|.CellConfig.UMTS.RAN.RF.NoiseRiseLimitUpperValue}} provides
 	@XmlElement(name = "NoiseRiseLimitConfig")
 	public Boolean noiseRiseLimitConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SelfConfig() {
 	}
 
@@ -207,6 +213,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public void  setUarFCNConfig(Boolean uarFCNConfig) {
 		this.uarFCNConfig = uarFCNConfig;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -222,6 +229,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public SelfConfig withUarFCNConfig(Boolean uarFCNConfig) {
 		this.uarFCNConfig = uarFCNConfig;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -251,6 +259,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public void  setPrimaryScramblingCodeConfig(Boolean primaryScramblingCodeConfig) {
 		this.primaryScramblingCodeConfig = primaryScramblingCodeConfig;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -266,6 +275,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public SelfConfig withPrimaryScramblingCodeConfig(Boolean primaryScramblingCodeConfig) {
 		this.primaryScramblingCodeConfig = primaryScramblingCodeConfig;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -295,6 +305,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public void  setMaxFAPTxPowerExpandedConfig(Boolean maxFAPTxPowerExpandedConfig) {
 		this.maxFAPTxPowerExpandedConfig = maxFAPTxPowerExpandedConfig;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -310,6 +321,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public SelfConfig withMaxFAPTxPowerExpandedConfig(Boolean maxFAPTxPowerExpandedConfig) {
 		this.maxFAPTxPowerExpandedConfig = maxFAPTxPowerExpandedConfig;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -339,6 +351,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public void  setPcpICHPowerConfig(Boolean pcpICHPowerConfig) {
 		this.pcpICHPowerConfig = pcpICHPowerConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -354,6 +367,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public SelfConfig withPcpICHPowerConfig(Boolean pcpICHPowerConfig) {
 		this.pcpICHPowerConfig = pcpICHPowerConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -383,6 +397,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public void  setMaxULTxPowerConfig(Boolean maxULTxPowerConfig) {
 		this.maxULTxPowerConfig = maxULTxPowerConfig;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -398,6 +413,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public SelfConfig withMaxULTxPowerConfig(Boolean maxULTxPowerConfig) {
 		this.maxULTxPowerConfig = maxULTxPowerConfig;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -427,6 +443,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public void  setLacRACURAConfig(Boolean lacRACURAConfig) {
 		this.lacRACURAConfig = lacRACURAConfig;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -442,6 +459,7 @@ If {{false}} only a single value SHOULD be provided in {{param|.CellConfig.UMTS.
 	 */
 	public SelfConfig withLacRACURAConfig(Boolean lacRACURAConfig) {
 		this.lacRACURAConfig = lacRACURAConfig;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -471,6 +489,7 @@ If {{false}} the ACS uses the {{object|.CellConfig.UMTS.RAN.NeighborList.IntraFr
 	 */
 	public void  setNeighborListConfig(Boolean neighborListConfig) {
 		this.neighborListConfig = neighborListConfig;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -486,6 +505,7 @@ If {{false}} the ACS uses the {{object|.CellConfig.UMTS.RAN.NeighborList.IntraFr
 	 */
 	public SelfConfig withNeighborListConfig(Boolean neighborListConfig) {
 		this.neighborListConfig = neighborListConfig;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -515,6 +535,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.CellSelection.}} is provided by the A
 	 */
 	public void  setCellReSelectionConfig(Boolean cellReSelectionConfig) {
 		this.cellReSelectionConfig = cellReSelectionConfig;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -530,6 +551,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.CellSelection.}} is provided by the A
 	 */
 	public SelfConfig withCellReSelectionConfig(Boolean cellReSelectionConfig) {
 		this.cellReSelectionConfig = cellReSelectionConfig;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -559,6 +581,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.IntraFreqMeas.}} is provided by the A
 	 */
 	public void  setIntraFreqMeasConfig(Boolean intraFreqMeasConfig) {
 		this.intraFreqMeasConfig = intraFreqMeasConfig;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -574,6 +597,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.IntraFreqMeas.}} is provided by the A
 	 */
 	public SelfConfig withIntraFreqMeasConfig(Boolean intraFreqMeasConfig) {
 		this.intraFreqMeasConfig = intraFreqMeasConfig;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -603,6 +627,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.InterFreqMeas.}} is provided by the A
 	 */
 	public void  setInterFreqMeasConfig(Boolean interFreqMeasConfig) {
 		this.interFreqMeasConfig = interFreqMeasConfig;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -618,6 +643,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.InterFreqMeas.}} is provided by the A
 	 */
 	public SelfConfig withInterFreqMeasConfig(Boolean interFreqMeasConfig) {
 		this.interFreqMeasConfig = interFreqMeasConfig;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -647,6 +673,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.InterRATMeas.}} is provided by the AC
 	 */
 	public void  setInterRATMeasConfig(Boolean interRATMeasConfig) {
 		this.interRATMeasConfig = interRATMeasConfig;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -662,6 +689,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.InterRATMeas.}} is provided by the AC
 	 */
 	public SelfConfig withInterRATMeasConfig(Boolean interRATMeasConfig) {
 		this.interRATMeasConfig = interRATMeasConfig;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -691,6 +719,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.UEInternalMeas.}} is provided by the
 	 */
 	public void  setUeinternalMeasConfig(Boolean ueinternalMeasConfig) {
 		this.ueinternalMeasConfig = ueinternalMeasConfig;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -706,6 +735,7 @@ If {{false}} {{object|.CellConfig.UMTS.RAN.UEInternalMeas.}} is provided by the
 	 */
 	public SelfConfig withUeinternalMeasConfig(Boolean ueinternalMeasConfig) {
 		this.ueinternalMeasConfig = ueinternalMeasConfig;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -735,6 +765,7 @@ If {{false}} {{param|.CellConfig.UMTS.RAN.RF.NoiseRiseLimitUpperValue}} provides
 	 */
 	public void  setNoiseRiseLimitConfig(Boolean noiseRiseLimitConfig) {
 		this.noiseRiseLimitConfig = noiseRiseLimitConfig;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -750,6 +781,7 @@ If {{false}} {{param|.CellConfig.UMTS.RAN.RF.NoiseRiseLimitUpperValue}} provides
 	 */
 	public SelfConfig withNoiseRiseLimitConfig(Boolean noiseRiseLimitConfig) {
 		this.noiseRiseLimitConfig = noiseRiseLimitConfig;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.Beacon;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.HRPD;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.OneX;
@@ -71,6 +72,11 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	@XmlElement(name = "Beacon")
 	public Beacon beacon;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDMA2000() {
 	}
 
@@ -109,6 +115,7 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	 */
 	public void  setTunnelInstance(String tunnelInstance) {
 		this.tunnelInstance = tunnelInstance;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -128,6 +135,7 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	 */
 	public CDMA2000 withTunnelInstance(String tunnelInstance) {
 		this.tunnelInstance = tunnelInstance;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
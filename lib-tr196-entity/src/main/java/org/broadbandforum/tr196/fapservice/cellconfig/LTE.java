@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.EPC;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.EnergySavings;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.RAN;
@@ -74,10 +75,20 @@ public class LTE {
 	 * @return the value
 	 */
 	public Collection<Tunnel> getTunnels() {
-		if (this.tunnels == null){ this.tunnels=new ArrayList<>();}
+		if (!(this.tunnels instanceof InstanceTable)){ this.tunnels=InstanceTable.of(this.tunnels);}
 		return tunnels;
 	}
 
+	/**
+	 * Read the this object contains a table of all tunnel instances configured for the LTE FAP.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Tunnel> viewTunnels() {
+		return tunnels == null ? Collections.emptyList() : tunnels;
+	}
+
 	/**
 	 * Set the this object contains a table of all tunnel instances configured for the LTE FAP.
 	 *
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.CN;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.RAB;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.RAN;
@@ -71,6 +72,11 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	@XmlElement(name = "RAB")
 	public RAB rab;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UMTS() {
 	}
 
@@ -109,6 +115,7 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	 */
 	public void  setTunnelInstance(String tunnelInstance) {
 		this.tunnelInstance = tunnelInstance;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -128,6 +135,7 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	 */
 	public UMTS withTunnelInstance(String tunnelInstance) {
 		this.tunnelInstance = tunnelInstance;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
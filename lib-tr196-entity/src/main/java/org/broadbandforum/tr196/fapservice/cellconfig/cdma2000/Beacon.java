@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.beacon.BeaconList;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.beacon.HRPDBeaconList;
 
@@ -176,6 +178,11 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	@CWMPParameter(access = "readWrite")
 	public Collection<HRPDBeaconList> hrpDBeaconLists;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Beacon() {
 	}
 
@@ -198,6 +205,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setBeaconAdminStatus(String beaconAdminStatus) {
 		this.beaconAdminStatus = beaconAdminStatus;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -209,6 +217,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withBeaconAdminStatus(String beaconAdminStatus) {
 		this.beaconAdminStatus = beaconAdminStatus;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -230,6 +239,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setBeaconOperStatus(String beaconOperStatus) {
 		this.beaconOperStatus = beaconOperStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -241,6 +251,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withBeaconOperStatus(String beaconOperStatus) {
 		this.beaconOperStatus = beaconOperStatus;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -262,6 +273,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setHrpDBeaconEnable(Boolean hrpDBeaconEnable) {
 		this.hrpDBeaconEnable = hrpDBeaconEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -273,6 +285,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withHrpDBeaconEnable(Boolean hrpDBeaconEnable) {
 		this.hrpDBeaconEnable = hrpDBeaconEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -294,6 +307,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setPeriod(Long period) {
 		this.period = period;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -305,6 +319,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withPeriod(Long period) {
 		this.period = period;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -338,6 +353,7 @@ Self-configuration for maximum beacon transmission power is controlled by {{para
 	 */
 	public void  setMaxFAPBeaconTxPower(String maxFAPBeaconTxPower) {
 		this.maxFAPBeaconTxPower = maxFAPBeaconTxPower;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -355,6 +371,7 @@ Self-configuration for maximum beacon transmission power is controlled by {{para
 	 */
 	public Beacon withMaxFAPBeaconTxPower(String maxFAPBeaconTxPower) {
 		this.maxFAPBeaconTxPower = maxFAPBeaconTxPower;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -376,6 +393,7 @@ Self-configuration for maximum beacon transmission power is controlled by {{para
 	 */
 	public void  setMaxFAPBeaconTxPowerInUse(Integer maxFAPBeaconTxPowerInUse) {
 		this.maxFAPBeaconTxPowerInUse = maxFAPBeaconTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -387,6 +405,7 @@ Self-configuration for maximum beacon transmission power is controlled by {{para
 	 */
 	public Beacon withMaxFAPBeaconTxPowerInUse(Integer maxFAPBeaconTxPowerInUse) {
 		this.maxFAPBeaconTxPowerInUse = maxFAPBeaconTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -412,6 +431,7 @@ For example, 93333 means 93.333% of the max sector power.
 	 */
 	public void  setBeaconPchPwrPercentage(Integer beaconPchPwrPercentage) {
 		this.beaconPchPwrPercentage = beaconPchPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -425,6 +445,7 @@ For example, 93333 means 93.333% of the max sector power.
 	 */
 	public Beacon withBeaconPchPwrPercentage(Integer beaconPchPwrPercentage) {
 		this.beaconPchPwrPercentage = beaconPchPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -450,6 +471,7 @@ MaxHRPDBeaconTxPower identifies the limits between which the FAP can self-config
 	 */
 	public void  setMaxHRPDBeaconTxPower(String maxHRPDBeaconTxPower) {
 		this.maxHRPDBeaconTxPower = maxHRPDBeaconTxPower;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -463,6 +485,7 @@ MaxHRPDBeaconTxPower identifies the limits between which the FAP can self-config
 	 */
 	public Beacon withMaxHRPDBeaconTxPower(String maxHRPDBeaconTxPower) {
 		this.maxHRPDBeaconTxPower = maxHRPDBeaconTxPower;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -488,6 +511,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setMaxHRPDBeaconTxPowerInUse(Integer maxHRPDBeaconTxPowerInUse) {
 		this.maxHRPDBeaconTxPowerInUse = maxHRPDBeaconTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -501,6 +525,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withMaxHRPDBeaconTxPowerInUse(Integer maxHRPDBeaconTxPowerInUse) {
 		this.maxHRPDBeaconTxPowerInUse = maxHRPDBeaconTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -522,6 +547,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setBeaconPilotPwrPercentage(Integer beaconPilotPwrPercentage) {
 		this.beaconPilotPwrPercentage = beaconPilotPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -533,6 +559,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withBeaconPilotPwrPercentage(Integer beaconPilotPwrPercentage) {
 		this.beaconPilotPwrPercentage = beaconPilotPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -554,6 +581,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setBeaconSyncPwrPercentage(Integer beaconSyncPwrPercentage) {
 		this.beaconSyncPwrPercentage = beaconSyncPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -565,6 +593,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withBeaconSyncPwrPercentage(Integer beaconSyncPwrPercentage) {
 		this.beaconSyncPwrPercentage = beaconSyncPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -586,6 +615,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setMaxBeaconListEntries(Long maxBeaconListEntries) {
 		this.maxBeaconListEntries = maxBeaconListEntries;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -597,6 +627,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withMaxBeaconListEntries(Long maxBeaconListEntries) {
 		this.maxBeaconListEntries = maxBeaconListEntries;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -618,6 +649,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public void  setMaxHRPDBeaconListEntries(Long maxHRPDBeaconListEntries) {
 		this.maxHRPDBeaconListEntries = maxHRPDBeaconListEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -629,6 +661,7 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 */
 	public Beacon withMaxHRPDBeaconListEntries(Long maxHRPDBeaconListEntries) {
 		this.maxHRPDBeaconListEntries = maxHRPDBeaconListEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -638,10 +671,20 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 * @return the value
 	 */
 	public Collection<BeaconList> getBeaconLists() {
-		if (this.beaconLists == null){ this.beaconLists=new ArrayList<>();}
+		if (!(this.beaconLists instanceof InstanceTable)){ this.beaconLists=InstanceTable.of(this.beaconLists);}
 		return beaconLists;
 	}
 
+	/**
+	 * Read the this object models an individual beacon intervals. It may be used to model both 1x and HRPD beacons with offset from start of beacon frame measured in 80ms slots.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BeaconList> viewBeaconLists() {
+		return beaconLists == null ? Collections.emptyList() : beaconLists;
+	}
+
 	/**
 	 * Set the this object models an individual beacon intervals. It may be used to model both 1x and HRPD beacons with offset from start of beacon frame measured in 80ms slots.
 	 *
@@ -668,10 +711,20 @@ Actual values of the maximum transmission power are -40.0 dBm to 20.0  in units
 	 * @return the value
 	 */
 	public Collection<HRPDBeaconList> getHrpDBeaconLists() {
-		if (this.hrpDBeaconLists == null){ this.hrpDBeaconLists=new ArrayList<>();}
+		if (!(this.hrpDBeaconLists instanceof InstanceTable)){ this.hrpDBeaconLists=InstanceTable.of(this.hrpDBeaconLists);}
 		return hrpDBeaconLists;
 	}
 
+	/**
+	 * Read the this object models individual HRPD beacon intervals where the beacon start is expressed as a number of HRPD control channel slots from the start of the beacon frame.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<HRPDBeaconList> viewHrpDBeaconLists() {
+		return hrpDBeaconLists == null ? Collections.emptyList() : hrpDBeaconLists;
+	}
+
 	/**
 	 * Set the this object models individual HRPD beacon intervals where the beacon start is expressed as a number of HRPD control channel slots from the start of the beacon frame.
 	 *
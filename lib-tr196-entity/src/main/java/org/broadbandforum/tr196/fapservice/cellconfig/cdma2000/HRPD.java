@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.hrpd.AccessAuthConfig;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.hrpd.AccessAuthStats;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.hrpd.BatchPCFPDSN;
@@ -109,6 +111,11 @@ public class HRPD {
 	@XmlElement(name = "AccessAuthStats")
 	public AccessAuthStats accessAuthStats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HRPD() {
 	}
 
@@ -131,6 +138,7 @@ public class HRPD {
 	 */
 	public void  setMaxBatchPCFPDSNEntries(Long maxBatchPCFPDSNEntries) {
 		this.maxBatchPCFPDSNEntries = maxBatchPCFPDSNEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -142,6 +150,7 @@ public class HRPD {
 	 */
 	public HRPD withMaxBatchPCFPDSNEntries(Long maxBatchPCFPDSNEntries) {
 		this.maxBatchPCFPDSNEntries = maxBatchPCFPDSNEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -209,10 +218,20 @@ public class HRPD {
 	 * @return the value
 	 */
 	public Collection<BatchPCFPDSN> getBatchPCFPDSNs() {
-		if (this.batchPCFPDSNs == null){ this.batchPCFPDSNs=new ArrayList<>();}
+		if (!(this.batchPCFPDSNs instanceof InstanceTable)){ this.batchPCFPDSNs=InstanceTable.of(this.batchPCFPDSNs);}
 		return batchPCFPDSNs;
 	}
 
+	/**
+	 * Read the Batch configuration Object used to configure PDSN table using a start and end IP address. The order of the address is used as part of PDSN selection algorithm, e.g., the first element is considered PDSN number 0 (refer to {{bibref|3GPP2-A.S0008}} and {{bibref|3GPP2-A.S0009}}). To get individual PDSN entries use the {{object|.CellConfig.CDMA2000.HRPD.PCFPDSN.{i}.}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BatchPCFPDSN> viewBatchPCFPDSNs() {
+		return batchPCFPDSNs == null ? Collections.emptyList() : batchPCFPDSNs;
+	}
+
 	/**
 	 * Set the Batch configuration Object used to configure PDSN table using a start and end IP address. The order of the address is used as part of PDSN selection algorithm, e.g., the first element is considered PDSN number 0 (refer to {{bibref|3GPP2-A.S0008}} and {{bibref|3GPP2-A.S0009}}). To get individual PDSN entries use the {{object|.CellConfig.CDMA2000.HRPD.PCFPDSN.{i}.}}.
 	 *
@@ -239,10 +258,20 @@ public class HRPD {
 	 * @return the value
 	 */
 	public Collection<PCFPDSN> getPcfPDSNs() {
-		if (this.pcfPDSNs == null){ this.pcfPDSNs=new ArrayList<>();}
+		if (!(this.pcfPDSNs instanceof InstanceTable)){ this.pcfPDSNs=InstanceTable.of(this.pcfPDSNs);}
 		return pcfPDSNs;
 	}
 
+	/**
+	 * Read the pcfPDSN Object configured for HRPD. {{object|.CellConfig.CDMA2000.HRPD.BatchPCFPDSN.{i}.}} table should be used to configure PDSN details.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PCFPDSN> viewPcfPDSNs() {
+		return pcfPDSNs == null ? Collections.emptyList() : pcfPDSNs;
+	}
+
 	/**
 	 * Set the pcfPDSN Object configured for HRPD. {{object|.CellConfig.CDMA2000.HRPD.BatchPCFPDSN.{i}.}} table should be used to configure PDSN details.
 	 *
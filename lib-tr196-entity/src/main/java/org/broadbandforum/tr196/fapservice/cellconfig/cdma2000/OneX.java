@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.BatchPCFPDSN;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.PCFConfig;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.PCFPDSN;
@@ -85,6 +87,11 @@ public class OneX {
 	@XmlElement(name = "Redirect")
 	public Redirect redirect;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public OneX() {
 	}
 
@@ -107,6 +114,7 @@ public class OneX {
 	 */
 	public void  setMaxBatchPCFPDSNEntries(Long maxBatchPCFPDSNEntries) {
 		this.maxBatchPCFPDSNEntries = maxBatchPCFPDSNEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +126,7 @@ public class OneX {
 	 */
 	public OneX withMaxBatchPCFPDSNEntries(Long maxBatchPCFPDSNEntries) {
 		this.maxBatchPCFPDSNEntries = maxBatchPCFPDSNEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -185,10 +194,20 @@ public class OneX {
 	 * @return the value
 	 */
 	public Collection<BatchPCFPDSN> getBatchPCFPDSNs() {
-		if (this.batchPCFPDSNs == null){ this.batchPCFPDSNs=new ArrayList<>();}
+		if (!(this.batchPCFPDSNs instanceof InstanceTable)){ this.batchPCFPDSNs=InstanceTable.of(this.batchPCFPDSNs);}
 		return batchPCFPDSNs;
 	}
 
+	/**
+	 * Read the Batch configuration Object used to configure PDSN table using a start and end IP address. The order of the address is used as part of PDSN selection algorithm, e.g., the first element is considered PDSN number 0. (Refer to {{bibref|3GPP2-A.S0013}}). To get individual PDSN entries use the {{object|.CellConfig.CDMA2000.OneX.PCFPDSN.{i}.}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<BatchPCFPDSN> viewBatchPCFPDSNs() {
+		return batchPCFPDSNs == null ? Collections.emptyList() : batchPCFPDSNs;
+	}
+
 	/**
 	 * Set the Batch configuration Object used to configure PDSN table using a start and end IP address. The order of the address is used as part of PDSN selection algorithm, e.g., the first element is considered PDSN number 0. (Refer to {{bibref|3GPP2-A.S0013}}). To get individual PDSN entries use the {{object|.CellConfig.CDMA2000.OneX.PCFPDSN.{i}.}}.
 	 *
@@ -215,10 +234,20 @@ public class OneX {
 	 * @return the value
 	 */
 	public Collection<PCFPDSN> getPcfPDSNs() {
-		if (this.pcfPDSNs == null){ this.pcfPDSNs=new ArrayList<>();}
+		if (!(this.pcfPDSNs instanceof InstanceTable)){ this.pcfPDSNs=InstanceTable.of(this.pcfPDSNs);}
 		return pcfPDSNs;
 	}
 
+	/**
+	 * Read the pcfPDSN Object configured for 1x. {{object|.CellConfig.CDMA2000.OneX.BatchPCFPDSN.{i}.}} table should be used to configure PDSN details.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PCFPDSN> viewPcfPDSNs() {
+		return pcfPDSNs == null ? Collections.emptyList() : pcfPDSNs;
+	}
+
 	/**
 	 * Set the pcfPDSN Object configured for 1x. {{object|.CellConfig.CDMA2000.OneX.BatchPCFPDSN.{i}.}} table should be used to configure PDSN details.
 	 *
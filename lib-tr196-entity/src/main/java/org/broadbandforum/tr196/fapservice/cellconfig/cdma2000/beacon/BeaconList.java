@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.beacon;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object models an individual beacon intervals. It may be used to model both 1x and HRPD beacons with offset from start of beacon frame measured in 80ms slots.
@@ -154,6 +157,16 @@ public class BeaconList {
 	@CWMPParameter(access = "readWrite")
 	public Long beaconPZID = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public BeaconList() {
 	}
 
@@ -176,6 +189,7 @@ public class BeaconList {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -187,6 +201,7 @@ public class BeaconList {
 	 */
 	public BeaconList withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -208,6 +223,8 @@ public class BeaconList {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -219,6 +236,8 @@ public class BeaconList {
 	 */
 	public BeaconList withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -240,6 +259,8 @@ public class BeaconList {
 	 */
 	public void  setBeaconIndex(Integer beaconIndex) {
 		this.beaconIndex = beaconIndex;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -251,6 +272,8 @@ public class BeaconList {
 	 */
 	public BeaconList withBeaconIndex(Integer beaconIndex) {
 		this.beaconIndex = beaconIndex;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -272,6 +295,7 @@ public class BeaconList {
 	 */
 	public void  setOffset(Long offset) {
 		this.offset = offset;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -283,6 +307,7 @@ public class BeaconList {
 	 */
 	public BeaconList withOffset(Long offset) {
 		this.offset = offset;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -304,6 +329,7 @@ public class BeaconList {
 	 */
 	public void  setDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -315,6 +341,7 @@ public class BeaconList {
 	 */
 	public BeaconList withDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -336,6 +363,7 @@ public class BeaconList {
 	 */
 	public void  setTransmissionFormat(String transmissionFormat) {
 		this.transmissionFormat = transmissionFormat;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -347,6 +375,7 @@ public class BeaconList {
 	 */
 	public BeaconList withTransmissionFormat(String transmissionFormat) {
 		this.transmissionFormat = transmissionFormat;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -368,6 +397,7 @@ public class BeaconList {
 	 */
 	public void  setBeaconBandClass(Integer beaconBandClass) {
 		this.beaconBandClass = beaconBandClass;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -379,6 +409,7 @@ public class BeaconList {
 	 */
 	public BeaconList withBeaconBandClass(Integer beaconBandClass) {
 		this.beaconBandClass = beaconBandClass;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -400,6 +431,7 @@ public class BeaconList {
 	 */
 	public void  setBeaconChannelFreq(Long beaconChannelFreq) {
 		this.beaconChannelFreq = beaconChannelFreq;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -411,6 +443,7 @@ public class BeaconList {
 	 */
 	public BeaconList withBeaconChannelFreq(Long beaconChannelFreq) {
 		this.beaconChannelFreq = beaconChannelFreq;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -425,6 +458,17 @@ public class BeaconList {
 		return beaconPNOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a pilot PN offset of the pilot beacon for this channel in units of 64 PN chips. If this parameter  contains more than one item, then the FAP is expected to select one from the list as the PilotPN to be used for this channel. If the self-configuration capability is not to be used, then this parameter SHALL contain only a single item.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBeaconPNOffset() {
+		return beaconPNOffset == null ? Collections.emptyList() : beaconPNOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a pilot PN offset of the pilot beacon for this channel in units of 64 PN chips. If this parameter  contains more than one item, then the FAP is expected to select one from the list as the PilotPN to be used for this channel. If the self-configuration capability is not to be used, then this parameter SHALL contain only a single item.
 	 *
@@ -433,6 +477,7 @@ public class BeaconList {
 	 */
 	public void  setBeaconPNOffset(Collection<String> beaconPNOffset) {
 		this.beaconPNOffset = beaconPNOffset;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -444,6 +489,7 @@ public class BeaconList {
 	 */
 	public BeaconList withBeaconPNOffset(String string) {
 		getBeaconPNOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -465,6 +511,7 @@ public class BeaconList {
 	 */
 	public void  setTxpower(Integer txpower) {
 		this.txpower = txpower;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -476,6 +523,7 @@ public class BeaconList {
 	 */
 	public BeaconList withTxpower(Integer txpower) {
 		this.txpower = txpower;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -497,6 +545,7 @@ public class BeaconList {
 	 */
 	public void  setBeaconSID(Long beaconSID) {
 		this.beaconSID = beaconSID;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -508,6 +557,7 @@ public class BeaconList {
 	 */
 	public BeaconList withBeaconSID(Long beaconSID) {
 		this.beaconSID = beaconSID;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -529,6 +579,7 @@ public class BeaconList {
 	 */
 	public void  setBeaconNID(Long beaconNID) {
 		this.beaconNID = beaconNID;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -540,6 +591,7 @@ public class BeaconList {
 	 */
 	public BeaconList withBeaconNID(Long beaconNID) {
 		this.beaconNID = beaconNID;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -561,6 +613,7 @@ public class BeaconList {
 	 */
 	public void  setBeaconPZID(Long beaconPZID) {
 		this.beaconPZID = beaconPZID;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -572,6 +625,7 @@ public class BeaconList {
 	 */
 	public BeaconList withBeaconPZID(Long beaconPZID) {
 		this.beaconPZID = beaconPZID;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.beacon;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object models individual HRPD beacon intervals where the beacon start is expressed as a number of HRPD control channel slots from the start of the beacon frame.
@@ -138,6 +141,16 @@ public class HRPDBeaconList {
 	@Size(min = -40, max = 20)
 	public Integer txpower;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public HRPDBeaconList() {
 	}
 
@@ -160,6 +173,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -171,6 +185,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -192,6 +207,8 @@ public class HRPDBeaconList {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -203,6 +220,8 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -224,6 +243,8 @@ public class HRPDBeaconList {
 	 */
 	public void  setBeaconIndex(Integer beaconIndex) {
 		this.beaconIndex = beaconIndex;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -235,6 +256,8 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withBeaconIndex(Integer beaconIndex) {
 		this.beaconIndex = beaconIndex;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -256,6 +279,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setCcoffset(Long ccoffset) {
 		this.ccoffset = ccoffset;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -267,6 +291,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withCcoffset(Long ccoffset) {
 		this.ccoffset = ccoffset;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -288,6 +313,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setOffset(Integer offset) {
 		this.offset = offset;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -299,6 +325,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withOffset(Integer offset) {
 		this.offset = offset;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -320,6 +347,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -331,6 +359,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withDuration(Long duration) {
 		this.duration = duration;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -352,6 +381,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setNumCCcycles(Long numCCcycles) {
 		this.numCCcycles = numCCcycles;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -363,6 +393,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withNumCCcycles(Long numCCcycles) {
 		this.numCCcycles = numCCcycles;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -384,6 +415,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setBeaconBandClass(Long beaconBandClass) {
 		this.beaconBandClass = beaconBandClass;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -395,6 +427,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withBeaconBandClass(Long beaconBandClass) {
 		this.beaconBandClass = beaconBandClass;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -416,6 +449,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setBeaconChannelFreq(Long beaconChannelFreq) {
 		this.beaconChannelFreq = beaconChannelFreq;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -427,6 +461,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withBeaconChannelFreq(Long beaconChannelFreq) {
 		this.beaconChannelFreq = beaconChannelFreq;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -441,6 +476,17 @@ public class HRPDBeaconList {
 		return beaconPNOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a pilot PN offset of the pilot beacon for this channel in units of 64 PN chips. If this parameter  contains more than one item, then the FAP is expected to select one from the list as the PilotPN to be used for this channel. If the self-configuration capability is not to be used, then this parameter SHALL contain only a single item.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewBeaconPNOffset() {
+		return beaconPNOffset == null ? Collections.emptyList() : beaconPNOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a pilot PN offset of the pilot beacon for this channel in units of 64 PN chips. If this parameter  contains more than one item, then the FAP is expected to select one from the list as the PilotPN to be used for this channel. If the self-configuration capability is not to be used, then this parameter SHALL contain only a single item.
 	 *
@@ -449,6 +495,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setBeaconPNOffset(Collection<String> beaconPNOffset) {
 		this.beaconPNOffset = beaconPNOffset;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -460,6 +507,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withBeaconPNOffset(String string) {
 		getBeaconPNOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -481,6 +529,7 @@ public class HRPDBeaconList {
 	 */
 	public void  setTxpower(Integer txpower) {
 		this.txpower = txpower;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -492,6 +541,7 @@ public class HRPDBeaconList {
 	 */
 	public HRPDBeaconList withTxpower(Integer txpower) {
 		this.txpower = txpower;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * HRPD A12-related service stats.
@@ -45,6 +46,11 @@ public class AccessAuthConfig {
 	@Size(min = 0, max = 1)
 	public Integer a12AccessAuthenticationEnable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AccessAuthConfig() {
 	}
 
@@ -67,6 +73,7 @@ public class AccessAuthConfig {
 	 */
 	public void  setA12AccessAuthenticationEnable(Integer a12AccessAuthenticationEnable) {
 		this.a12AccessAuthenticationEnable = a12AccessAuthenticationEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -78,6 +85,7 @@ public class AccessAuthConfig {
 	 */
 	public AccessAuthConfig withA12AccessAuthenticationEnable(Integer a12AccessAuthenticationEnable) {
 		this.a12AccessAuthenticationEnable = a12AccessAuthenticationEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
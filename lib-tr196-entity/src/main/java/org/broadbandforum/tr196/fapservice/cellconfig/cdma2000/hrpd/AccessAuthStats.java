@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is used in obtaining the Access Authentication related stats.
@@ -251,6 +252,11 @@ public class AccessAuthStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long accessAuthSucceeded;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AccessAuthStats() {
 	}
 
@@ -273,6 +279,7 @@ public class AccessAuthStats {
 	 */
 	public void  setAnpppAuthenticationAttemptsByNode(Long anpppAuthenticationAttemptsByNode) {
 		this.anpppAuthenticationAttemptsByNode = anpppAuthenticationAttemptsByNode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -284,6 +291,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withAnpppAuthenticationAttemptsByNode(Long anpppAuthenticationAttemptsByNode) {
 		this.anpppAuthenticationAttemptsByNode = anpppAuthenticationAttemptsByNode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -305,6 +313,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12RequestsSentFromNode(Long a12RequestsSentFromNode) {
 		this.a12RequestsSentFromNode = a12RequestsSentFromNode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -316,6 +325,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12RequestsSentFromNode(Long a12RequestsSentFromNode) {
 		this.a12RequestsSentFromNode = a12RequestsSentFromNode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -337,6 +347,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12RejectsReceivedByNode(Long a12RejectsReceivedByNode) {
 		this.a12RejectsReceivedByNode = a12RejectsReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -348,6 +359,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12RejectsReceivedByNode(Long a12RejectsReceivedByNode) {
 		this.a12RejectsReceivedByNode = a12RejectsReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -369,6 +381,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12AcceptsReceivedByNode(Long a12AcceptsReceivedByNode) {
 		this.a12AcceptsReceivedByNode = a12AcceptsReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -380,6 +393,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12AcceptsReceivedByNode(Long a12AcceptsReceivedByNode) {
 		this.a12AcceptsReceivedByNode = a12AcceptsReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -401,6 +415,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12AccessChallengesReceivedByNode(Long a12AccessChallengesReceivedByNode) {
 		this.a12AccessChallengesReceivedByNode = a12AccessChallengesReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -412,6 +427,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12AccessChallengesReceivedByNode(Long a12AccessChallengesReceivedByNode) {
 		this.a12AccessChallengesReceivedByNode = a12AccessChallengesReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -433,6 +449,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12RetransmitsSentFromNode(Long a12RetransmitsSentFromNode) {
 		this.a12RetransmitsSentFromNode = a12RetransmitsSentFromNode;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -444,6 +461,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12RetransmitsSentFromNode(Long a12RetransmitsSentFromNode) {
 		this.a12RetransmitsSentFromNode = a12RetransmitsSentFromNode;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -465,6 +483,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12TimeoutsEventsForNode(Long a12TimeoutsEventsForNode) {
 		this.a12TimeoutsEventsForNode = a12TimeoutsEventsForNode;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -476,6 +495,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12TimeoutsEventsForNode(Long a12TimeoutsEventsForNode) {
 		this.a12TimeoutsEventsForNode = a12TimeoutsEventsForNode;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -497,6 +517,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12MalformedresponseReceivedByNode(Long a12MalformedresponseReceivedByNode) {
 		this.a12MalformedresponseReceivedByNode = a12MalformedresponseReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -508,6 +529,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12MalformedresponseReceivedByNode(Long a12MalformedresponseReceivedByNode) {
 		this.a12MalformedresponseReceivedByNode = a12MalformedresponseReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -529,6 +551,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12BadAuthenticatorReceivedByNode(Long a12BadAuthenticatorReceivedByNode) {
 		this.a12BadAuthenticatorReceivedByNode = a12BadAuthenticatorReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -540,6 +563,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12BadAuthenticatorReceivedByNode(Long a12BadAuthenticatorReceivedByNode) {
 		this.a12BadAuthenticatorReceivedByNode = a12BadAuthenticatorReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -561,6 +585,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12UnknownTypeReceivedByNode(Long a12UnknownTypeReceivedByNode) {
 		this.a12UnknownTypeReceivedByNode = a12UnknownTypeReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -572,6 +597,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12UnknownTypeReceivedByNode(Long a12UnknownTypeReceivedByNode) {
 		this.a12UnknownTypeReceivedByNode = a12UnknownTypeReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -593,6 +619,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12UnknownPktReceivedByNode(Long a12UnknownPktReceivedByNode) {
 		this.a12UnknownPktReceivedByNode = a12UnknownPktReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -604,6 +631,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12UnknownPktReceivedByNode(Long a12UnknownPktReceivedByNode) {
 		this.a12UnknownPktReceivedByNode = a12UnknownPktReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -625,6 +653,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12UnknownServerReceivedByNode(Long a12UnknownServerReceivedByNode) {
 		this.a12UnknownServerReceivedByNode = a12UnknownServerReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -636,6 +665,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12UnknownServerReceivedByNode(Long a12UnknownServerReceivedByNode) {
 		this.a12UnknownServerReceivedByNode = a12UnknownServerReceivedByNode;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -657,6 +687,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12OtherFailureOccurencesInNode(Long a12OtherFailureOccurencesInNode) {
 		this.a12OtherFailureOccurencesInNode = a12OtherFailureOccurencesInNode;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -668,6 +699,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12OtherFailureOccurencesInNode(Long a12OtherFailureOccurencesInNode) {
 		this.a12OtherFailureOccurencesInNode = a12OtherFailureOccurencesInNode;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -689,6 +721,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12ByPassNumAtsWithUnknownMfrCodeByNode(Long a12ByPassNumAtsWithUnknownMfrCodeByNode) {
 		this.a12ByPassNumAtsWithUnknownMfrCodeByNode = a12ByPassNumAtsWithUnknownMfrCodeByNode;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -700,6 +733,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12ByPassNumAtsWithUnknownMfrCodeByNode(Long a12ByPassNumAtsWithUnknownMfrCodeByNode) {
 		this.a12ByPassNumAtsWithUnknownMfrCodeByNode = a12ByPassNumAtsWithUnknownMfrCodeByNode;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -721,6 +755,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12TxPathFailDueToAnPppErrorByNode(Long a12TxPathFailDueToAnPppErrorByNode) {
 		this.a12TxPathFailDueToAnPppErrorByNode = a12TxPathFailDueToAnPppErrorByNode;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -732,6 +767,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12TxPathFailDueToAnPppErrorByNode(Long a12TxPathFailDueToAnPppErrorByNode) {
 		this.a12TxPathFailDueToAnPppErrorByNode = a12TxPathFailDueToAnPppErrorByNode;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -753,6 +789,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12TxPathFailDueToNoServerAvailableByNode(Long a12TxPathFailDueToNoServerAvailableByNode) {
 		this.a12TxPathFailDueToNoServerAvailableByNode = a12TxPathFailDueToNoServerAvailableByNode;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -764,6 +801,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12TxPathFailDueToNoServerAvailableByNode(Long a12TxPathFailDueToNoServerAvailableByNode) {
 		this.a12TxPathFailDueToNoServerAvailableByNode = a12TxPathFailDueToNoServerAvailableByNode;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -785,6 +823,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12TxPathFailDueToInternalErrorByNode(Long a12TxPathFailDueToInternalErrorByNode) {
 		this.a12TxPathFailDueToInternalErrorByNode = a12TxPathFailDueToInternalErrorByNode;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -796,6 +835,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12TxPathFailDueToInternalErrorByNode(Long a12TxPathFailDueToInternalErrorByNode) {
 		this.a12TxPathFailDueToInternalErrorByNode = a12TxPathFailDueToInternalErrorByNode;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -817,6 +857,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12TxPathFailDueToNoPacketIdAvailableByNode(Long a12TxPathFailDueToNoPacketIdAvailableByNode) {
 		this.a12TxPathFailDueToNoPacketIdAvailableByNode = a12TxPathFailDueToNoPacketIdAvailableByNode;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -828,6 +869,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12TxPathFailDueToNoPacketIdAvailableByNode(Long a12TxPathFailDueToNoPacketIdAvailableByNode) {
 		this.a12TxPathFailDueToNoPacketIdAvailableByNode = a12TxPathFailDueToNoPacketIdAvailableByNode;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -849,6 +891,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12TxPathFailDueToTransmitErrorByNode(Long a12TxPathFailDueToTransmitErrorByNode) {
 		this.a12TxPathFailDueToTransmitErrorByNode = a12TxPathFailDueToTransmitErrorByNode;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -860,6 +903,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12TxPathFailDueToTransmitErrorByNode(Long a12TxPathFailDueToTransmitErrorByNode) {
 		this.a12TxPathFailDueToTransmitErrorByNode = a12TxPathFailDueToTransmitErrorByNode;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -881,6 +925,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12SvrTimeoutsForNode(Long a12SvrTimeoutsForNode) {
 		this.a12SvrTimeoutsForNode = a12SvrTimeoutsForNode;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -892,6 +937,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12SvrTimeoutsForNode(Long a12SvrTimeoutsForNode) {
 		this.a12SvrTimeoutsForNode = a12SvrTimeoutsForNode;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -913,6 +959,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12EnhTaBypassLcpTimeoutByNode(Long a12EnhTaBypassLcpTimeoutByNode) {
 		this.a12EnhTaBypassLcpTimeoutByNode = a12EnhTaBypassLcpTimeoutByNode;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -924,6 +971,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12EnhTaBypassLcpTimeoutByNode(Long a12EnhTaBypassLcpTimeoutByNode) {
 		this.a12EnhTaBypassLcpTimeoutByNode = a12EnhTaBypassLcpTimeoutByNode;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -945,6 +993,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12EnhTaBypassChapTimeoutByNode(Long a12EnhTaBypassChapTimeoutByNode) {
 		this.a12EnhTaBypassChapTimeoutByNode = a12EnhTaBypassChapTimeoutByNode;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -956,6 +1005,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12EnhTaBypassChapTimeoutByNode(Long a12EnhTaBypassChapTimeoutByNode) {
 		this.a12EnhTaBypassChapTimeoutByNode = a12EnhTaBypassChapTimeoutByNode;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -977,6 +1027,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12EnhTaBypassChapInvalidByNode(Long a12EnhTaBypassChapInvalidByNode) {
 		this.a12EnhTaBypassChapInvalidByNode = a12EnhTaBypassChapInvalidByNode;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -988,6 +1039,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12EnhTaBypassChapInvalidByNode(Long a12EnhTaBypassChapInvalidByNode) {
 		this.a12EnhTaBypassChapInvalidByNode = a12EnhTaBypassChapInvalidByNode;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1009,6 +1061,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12EnhTaBypassChapNaiMatchesA12BypassListByNode(Long a12EnhTaBypassChapNaiMatchesA12BypassListByNode) {
 		this.a12EnhTaBypassChapNaiMatchesA12BypassListByNode = a12EnhTaBypassChapNaiMatchesA12BypassListByNode;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1020,6 +1073,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12EnhTaBypassChapNaiMatchesA12BypassListByNode(Long a12EnhTaBypassChapNaiMatchesA12BypassListByNode) {
 		this.a12EnhTaBypassChapNaiMatchesA12BypassListByNode = a12EnhTaBypassChapNaiMatchesA12BypassListByNode;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1041,6 +1095,7 @@ public class AccessAuthStats {
 	 */
 	public void  setA12SessionTaTimeoutByNode(Long a12SessionTaTimeoutByNode) {
 		this.a12SessionTaTimeoutByNode = a12SessionTaTimeoutByNode;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1052,6 +1107,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withA12SessionTaTimeoutByNode(Long a12SessionTaTimeoutByNode) {
 		this.a12SessionTaTimeoutByNode = a12SessionTaTimeoutByNode;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1073,6 +1129,7 @@ public class AccessAuthStats {
 	 */
 	public void  setAccessAuthFailedDueToSessionCloseTotal(Long accessAuthFailedDueToSessionCloseTotal) {
 		this.accessAuthFailedDueToSessionCloseTotal = accessAuthFailedDueToSessionCloseTotal;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1084,6 +1141,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withAccessAuthFailedDueToSessionCloseTotal(Long accessAuthFailedDueToSessionCloseTotal) {
 		this.accessAuthFailedDueToSessionCloseTotal = accessAuthFailedDueToSessionCloseTotal;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1105,6 +1163,7 @@ public class AccessAuthStats {
 	 */
 	public void  setAccessAuthSucceeded(Long accessAuthSucceeded) {
 		this.accessAuthSucceeded = accessAuthSucceeded;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1116,6 +1175,7 @@ public class AccessAuthStats {
 	 */
 	public AccessAuthStats withAccessAuthSucceeded(Long accessAuthSucceeded) {
 		this.accessAuthSucceeded = accessAuthSucceeded;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
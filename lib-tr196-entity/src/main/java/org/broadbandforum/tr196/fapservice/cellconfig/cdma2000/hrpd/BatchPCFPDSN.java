@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The Batch configuration Object used to configure PDSN table using a start and end IP address. The order of the address is used as part of PDSN selection algorithm, e.g., the first element is considered PDSN number 0 (refer to {{bibref|3GPP2-A.S0008}} and {{bibref|3GPP2-A.S0009}}). To get individual PDSN entries use the {{object|.CellConfig.CDMA2000.HRPD.PCFPDSN.{i}.}}.
@@ -124,6 +126,16 @@ public class BatchPCFPDSN {
 	@Size(max = 32)
 	public String pdsNType;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public BatchPCFPDSN() {
 	}
 
@@ -146,6 +158,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -157,6 +170,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -178,6 +192,8 @@ public class BatchPCFPDSN {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -189,6 +205,8 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -210,6 +228,8 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableNumber(Integer batchTableNumber) {
 		this.batchTableNumber = batchTableNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -221,6 +241,8 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableNumber(Integer batchTableNumber) {
 		this.batchTableNumber = batchTableNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -242,6 +264,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableStartIPAddress(IPAddress batchTableStartIPAddress) {
 		this.batchTableStartIPAddress = batchTableStartIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -253,6 +276,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableStartIPAddress(IPAddress batchTableStartIPAddress) {
 		this.batchTableStartIPAddress = batchTableStartIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -274,6 +298,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableEndIPAddress(IPAddress batchTableEndIPAddress) {
 		this.batchTableEndIPAddress = batchTableEndIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -285,6 +310,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableEndIPAddress(IPAddress batchTableEndIPAddress) {
 		this.batchTableEndIPAddress = batchTableEndIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -306,6 +332,8 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableSecurityParameterIndex(Long batchTableSecurityParameterIndex) {
 		this.batchTableSecurityParameterIndex = batchTableSecurityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -317,6 +345,8 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableSecurityParameterIndex(Long batchTableSecurityParameterIndex) {
 		this.batchTableSecurityParameterIndex = batchTableSecurityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -338,6 +368,8 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableSecretKey(byte[] batchTableSecretKey) {
 		this.batchTableSecretKey = batchTableSecretKey;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -349,6 +381,8 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableSecretKey(byte[] batchTableSecretKey) {
 		this.batchTableSecretKey = batchTableSecretKey;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -370,6 +404,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableIOSVersion(String batchTableIOSVersion) {
 		this.batchTableIOSVersion = batchTableIOSVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -381,6 +416,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableIOSVersion(String batchTableIOSVersion) {
 		this.batchTableIOSVersion = batchTableIOSVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -402,6 +438,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTablePDSNAdminStatus(Integer batchTablePDSNAdminStatus) {
 		this.batchTablePDSNAdminStatus = batchTablePDSNAdminStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -413,6 +450,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTablePDSNAdminStatus(Integer batchTablePDSNAdminStatus) {
 		this.batchTablePDSNAdminStatus = batchTablePDSNAdminStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -434,6 +472,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setPdsNType(String pdsNType) {
 		this.pdsNType = pdsNType;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -445,6 +484,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withPdsNType(String pdsNType) {
 		this.pdsNType = pdsNType;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Details on call control stats
@@ -139,6 +140,11 @@ public class CallControlStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long numForwardPreRLPDroppedPkts;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CallControlStats() {
 	}
 
@@ -161,6 +167,7 @@ public class CallControlStats {
 	 */
 	public void  setNumSessionSetupAttempts(Long numSessionSetupAttempts) {
 		this.numSessionSetupAttempts = numSessionSetupAttempts;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -172,6 +179,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumSessionSetupAttempts(Long numSessionSetupAttempts) {
 		this.numSessionSetupAttempts = numSessionSetupAttempts;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -193,6 +201,7 @@ public class CallControlStats {
 	 */
 	public void  setNumSessionSetupSuccessful(Long numSessionSetupSuccessful) {
 		this.numSessionSetupSuccessful = numSessionSetupSuccessful;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -204,6 +213,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumSessionSetupSuccessful(Long numSessionSetupSuccessful) {
 		this.numSessionSetupSuccessful = numSessionSetupSuccessful;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -225,6 +235,7 @@ public class CallControlStats {
 	 */
 	public void  setNumCurrentSessionsEstablished(Long numCurrentSessionsEstablished) {
 		this.numCurrentSessionsEstablished = numCurrentSessionsEstablished;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -236,6 +247,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumCurrentSessionsEstablished(Long numCurrentSessionsEstablished) {
 		this.numCurrentSessionsEstablished = numCurrentSessionsEstablished;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -257,6 +269,7 @@ public class CallControlStats {
 	 */
 	public void  setNumPageMessagesToAt(Long numPageMessagesToAt) {
 		this.numPageMessagesToAt = numPageMessagesToAt;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -268,6 +281,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumPageMessagesToAt(Long numPageMessagesToAt) {
 		this.numPageMessagesToAt = numPageMessagesToAt;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -289,6 +303,7 @@ public class CallControlStats {
 	 */
 	public void  setNumPagesSucceeded(Long numPagesSucceeded) {
 		this.numPagesSucceeded = numPagesSucceeded;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -300,6 +315,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumPagesSucceeded(Long numPagesSucceeded) {
 		this.numPagesSucceeded = numPagesSucceeded;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -321,6 +337,7 @@ public class CallControlStats {
 	 */
 	public void  setNumConnectionsOpened(Long numConnectionsOpened) {
 		this.numConnectionsOpened = numConnectionsOpened;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -332,6 +349,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumConnectionsOpened(Long numConnectionsOpened) {
 		this.numConnectionsOpened = numConnectionsOpened;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -353,6 +371,7 @@ public class CallControlStats {
 	 */
 	public void  setNumSessionSetupsFailedToTermAuth(Long numSessionSetupsFailedToTermAuth) {
 		this.numSessionSetupsFailedToTermAuth = numSessionSetupsFailedToTermAuth;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -364,6 +383,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumSessionSetupsFailedToTermAuth(Long numSessionSetupsFailedToTermAuth) {
 		this.numSessionSetupsFailedToTermAuth = numSessionSetupsFailedToTermAuth;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -385,6 +405,7 @@ public class CallControlStats {
 	 */
 	public void  setNumForwardRLPBytes(Long numForwardRLPBytes) {
 		this.numForwardRLPBytes = numForwardRLPBytes;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -396,6 +417,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumForwardRLPBytes(Long numForwardRLPBytes) {
 		this.numForwardRLPBytes = numForwardRLPBytes;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -417,6 +439,7 @@ public class CallControlStats {
 	 */
 	public void  setNumReverseRLPBytes(Long numReverseRLPBytes) {
 		this.numReverseRLPBytes = numReverseRLPBytes;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -428,6 +451,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumReverseRLPBytes(Long numReverseRLPBytes) {
 		this.numReverseRLPBytes = numReverseRLPBytes;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -449,6 +473,7 @@ public class CallControlStats {
 	 */
 	public void  setAverageSessionSetupTime(Long averageSessionSetupTime) {
 		this.averageSessionSetupTime = averageSessionSetupTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -460,6 +485,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withAverageSessionSetupTime(Long averageSessionSetupTime) {
 		this.averageSessionSetupTime = averageSessionSetupTime;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -481,6 +507,7 @@ public class CallControlStats {
 	 */
 	public void  setAveragePageSetupTime(Long averagePageSetupTime) {
 		this.averagePageSetupTime = averagePageSetupTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -492,6 +519,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withAveragePageSetupTime(Long averagePageSetupTime) {
 		this.averagePageSetupTime = averagePageSetupTime;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -513,6 +541,7 @@ public class CallControlStats {
 	 */
 	public void  setNumConnSetupsAborted(Long numConnSetupsAborted) {
 		this.numConnSetupsAborted = numConnSetupsAborted;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -524,6 +553,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumConnSetupsAborted(Long numConnSetupsAborted) {
 		this.numConnSetupsAborted = numConnSetupsAborted;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -545,6 +575,7 @@ public class CallControlStats {
 	 */
 	public void  setNumForwardPreRLPDroppedPkts(Long numForwardPreRLPDroppedPkts) {
 		this.numForwardPreRLPDroppedPkts = numForwardPreRLPDroppedPkts;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -556,6 +587,7 @@ public class CallControlStats {
 	 */
 	public CallControlStats withNumForwardPreRLPDroppedPkts(Long numForwardPreRLPDroppedPkts) {
 		this.numForwardPreRLPDroppedPkts = numForwardPreRLPDroppedPkts;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.hrpd.pcfpdsn.A11RegUpdateStats;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.hrpd.pcfpdsn.A11SessionUpdateStats;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.hrpd.pcfpdsn.AuxA10Stats;
@@ -140,6 +142,16 @@ public class PCFPDSN {
 	@XmlElement(name = "PCFPDSNStats")
 	public PCFPDSNStats pcfPDSNStats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PCFPDSN() {
 	}
 
@@ -162,6 +174,7 @@ public class PCFPDSN {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -173,6 +186,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -194,6 +208,8 @@ public class PCFPDSN {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +221,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -226,6 +244,8 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNNumber(Integer pdsNNumber) {
 		this.pdsNNumber = pdsNNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -237,6 +257,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNNumber(Integer pdsNNumber) {
 		this.pdsNNumber = pdsNNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -258,6 +280,8 @@ public class PCFPDSN {
 	 */
 	public void  setSecurityParameterIndex(Long securityParameterIndex) {
 		this.securityParameterIndex = securityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -269,6 +293,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withSecurityParameterIndex(Long securityParameterIndex) {
 		this.securityParameterIndex = securityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -290,6 +316,8 @@ public class PCFPDSN {
 	 */
 	public void  setSecurityKey(byte[] securityKey) {
 		this.securityKey = securityKey;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -301,6 +329,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withSecurityKey(byte[] securityKey) {
 		this.securityKey = securityKey;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -322,6 +352,7 @@ public class PCFPDSN {
 	 */
 	public void  setIosVersion(String iosVersion) {
 		this.iosVersion = iosVersion;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -333,6 +364,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withIosVersion(String iosVersion) {
 		this.iosVersion = iosVersion;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -354,6 +386,7 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNadminStatus(Integer pdsNadminStatus) {
 		this.pdsNadminStatus = pdsNadminStatus;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -365,6 +398,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNadminStatus(Integer pdsNadminStatus) {
 		this.pdsNadminStatus = pdsNadminStatus;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -386,6 +420,7 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNHealthStatus(Long pdsNHealthStatus) {
 		this.pdsNHealthStatus = pdsNHealthStatus;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -397,6 +432,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNHealthStatus(Long pdsNHealthStatus) {
 		this.pdsNHealthStatus = pdsNHealthStatus;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -418,6 +454,7 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNIPAddress(IPAddress pdsNIPAddress) {
 		this.pdsNIPAddress = pdsNIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -429,6 +466,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNIPAddress(IPAddress pdsNIPAddress) {
 		this.pdsNIPAddress = pdsNIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
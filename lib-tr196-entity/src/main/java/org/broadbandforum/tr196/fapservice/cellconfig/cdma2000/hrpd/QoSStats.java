@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is used in obtaining the QoS Common Performance stats
@@ -187,6 +188,11 @@ public class QoSStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long numConnectionCloseInitiatedNoRANRsr;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public QoSStats() {
 	}
 
@@ -209,6 +215,7 @@ public class QoSStats {
 	 */
 	public void  setNumQoSSubscriberProfileUpdatesRcvd(Long numQoSSubscriberProfileUpdatesRcvd) {
 		this.numQoSSubscriberProfileUpdatesRcvd = numQoSSubscriberProfileUpdatesRcvd;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -220,6 +227,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumQoSSubscriberProfileUpdatesRcvd(Long numQoSSubscriberProfileUpdatesRcvd) {
 		this.numQoSSubscriberProfileUpdatesRcvd = numQoSSubscriberProfileUpdatesRcvd;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -241,6 +249,7 @@ public class QoSStats {
 	 */
 	public void  setNumPDSNIPFlowUpdatesMsgRcvd(Long numPDSNIPFlowUpdatesMsgRcvd) {
 		this.numPDSNIPFlowUpdatesMsgRcvd = numPDSNIPFlowUpdatesMsgRcvd;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -252,6 +261,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumPDSNIPFlowUpdatesMsgRcvd(Long numPDSNIPFlowUpdatesMsgRcvd) {
 		this.numPDSNIPFlowUpdatesMsgRcvd = numPDSNIPFlowUpdatesMsgRcvd;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -273,6 +283,7 @@ public class QoSStats {
 	 */
 	public void  setNumPDSNIPFlowUpdatesMsgFailed(Long numPDSNIPFlowUpdatesMsgFailed) {
 		this.numPDSNIPFlowUpdatesMsgFailed = numPDSNIPFlowUpdatesMsgFailed;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -284,6 +295,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumPDSNIPFlowUpdatesMsgFailed(Long numPDSNIPFlowUpdatesMsgFailed) {
 		this.numPDSNIPFlowUpdatesMsgFailed = numPDSNIPFlowUpdatesMsgFailed;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -305,6 +317,7 @@ public class QoSStats {
 	 */
 	public void  setNumQoSSetupRequestsReceived(Long numQoSSetupRequestsReceived) {
 		this.numQoSSetupRequestsReceived = numQoSSetupRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -316,6 +329,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumQoSSetupRequestsReceived(Long numQoSSetupRequestsReceived) {
 		this.numQoSSetupRequestsReceived = numQoSSetupRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -337,6 +351,7 @@ public class QoSStats {
 	 */
 	public void  setNumQoSSetupRequestsAccepted(Long numQoSSetupRequestsAccepted) {
 		this.numQoSSetupRequestsAccepted = numQoSSetupRequestsAccepted;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -348,6 +363,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumQoSSetupRequestsAccepted(Long numQoSSetupRequestsAccepted) {
 		this.numQoSSetupRequestsAccepted = numQoSSetupRequestsAccepted;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -369,6 +385,7 @@ public class QoSStats {
 	 */
 	public void  setNumQoSSetupRequestsRejected(Long numQoSSetupRequestsRejected) {
 		this.numQoSSetupRequestsRejected = numQoSSetupRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -380,6 +397,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumQoSSetupRequestsRejected(Long numQoSSetupRequestsRejected) {
 		this.numQoSSetupRequestsRejected = numQoSSetupRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -401,6 +419,7 @@ public class QoSStats {
 	 */
 	public void  setNumReservationOnRequestsReceived(Long numReservationOnRequestsReceived) {
 		this.numReservationOnRequestsReceived = numReservationOnRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -412,6 +431,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumReservationOnRequestsReceived(Long numReservationOnRequestsReceived) {
 		this.numReservationOnRequestsReceived = numReservationOnRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -433,6 +453,7 @@ public class QoSStats {
 	 */
 	public void  setNumReservationOnRequestsAccepted(Long numReservationOnRequestsAccepted) {
 		this.numReservationOnRequestsAccepted = numReservationOnRequestsAccepted;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -444,6 +465,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumReservationOnRequestsAccepted(Long numReservationOnRequestsAccepted) {
 		this.numReservationOnRequestsAccepted = numReservationOnRequestsAccepted;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -465,6 +487,7 @@ public class QoSStats {
 	 */
 	public void  setNumReservationOnRequestsRejected(Long numReservationOnRequestsRejected) {
 		this.numReservationOnRequestsRejected = numReservationOnRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -476,6 +499,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumReservationOnRequestsRejected(Long numReservationOnRequestsRejected) {
 		this.numReservationOnRequestsRejected = numReservationOnRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -497,6 +521,7 @@ public class QoSStats {
 	 */
 	public void  setNumReservationOnRequestsFailed(Long numReservationOnRequestsFailed) {
 		this.numReservationOnRequestsFailed = numReservationOnRequestsFailed;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -508,6 +533,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumReservationOnRequestsFailed(Long numReservationOnRequestsFailed) {
 		this.numReservationOnRequestsFailed = numReservationOnRequestsFailed;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -529,6 +555,7 @@ public class QoSStats {
 	 */
 	public void  setNumFwdReservationOnMessagesSent(Long numFwdReservationOnMessagesSent) {
 		this.numFwdReservationOnMessagesSent = numFwdReservationOnMessagesSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -540,6 +567,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumFwdReservationOnMessagesSent(Long numFwdReservationOnMessagesSent) {
 		this.numFwdReservationOnMessagesSent = numFwdReservationOnMessagesSent;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -561,6 +589,7 @@ public class QoSStats {
 	 */
 	public void  setNumRevReservationOnMessagesSent(Long numRevReservationOnMessagesSent) {
 		this.numRevReservationOnMessagesSent = numRevReservationOnMessagesSent;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -572,6 +601,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumRevReservationOnMessagesSent(Long numRevReservationOnMessagesSent) {
 		this.numRevReservationOnMessagesSent = numRevReservationOnMessagesSent;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -593,6 +623,7 @@ public class QoSStats {
 	 */
 	public void  setNumReservationOffRequestsReceived(Long numReservationOffRequestsReceived) {
 		this.numReservationOffRequestsReceived = numReservationOffRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -604,6 +635,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumReservationOffRequestsReceived(Long numReservationOffRequestsReceived) {
 		this.numReservationOffRequestsReceived = numReservationOffRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -625,6 +657,7 @@ public class QoSStats {
 	 */
 	public void  setNumReservationOffRequestsAccepted(Long numReservationOffRequestsAccepted) {
 		this.numReservationOffRequestsAccepted = numReservationOffRequestsAccepted;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -636,6 +669,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumReservationOffRequestsAccepted(Long numReservationOffRequestsAccepted) {
 		this.numReservationOffRequestsAccepted = numReservationOffRequestsAccepted;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -657,6 +691,7 @@ public class QoSStats {
 	 */
 	public void  setNumReservationOffRequestsRejected(Long numReservationOffRequestsRejected) {
 		this.numReservationOffRequestsRejected = numReservationOffRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -668,6 +703,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumReservationOffRequestsRejected(Long numReservationOffRequestsRejected) {
 		this.numReservationOffRequestsRejected = numReservationOffRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -689,6 +725,7 @@ public class QoSStats {
 	 */
 	public void  setNumFwdReservationOffMessagesSent(Long numFwdReservationOffMessagesSent) {
 		this.numFwdReservationOffMessagesSent = numFwdReservationOffMessagesSent;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -700,6 +737,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumFwdReservationOffMessagesSent(Long numFwdReservationOffMessagesSent) {
 		this.numFwdReservationOffMessagesSent = numFwdReservationOffMessagesSent;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -721,6 +759,7 @@ public class QoSStats {
 	 */
 	public void  setNumRevReservationOffMessagesSent(Long numRevReservationOffMessagesSent) {
 		this.numRevReservationOffMessagesSent = numRevReservationOffMessagesSent;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -732,6 +771,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumRevReservationOffMessagesSent(Long numRevReservationOffMessagesSent) {
 		this.numRevReservationOffMessagesSent = numRevReservationOffMessagesSent;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -753,6 +793,7 @@ public class QoSStats {
 	 */
 	public void  setNumQoSReleaseRequestsReceived(Long numQoSReleaseRequestsReceived) {
 		this.numQoSReleaseRequestsReceived = numQoSReleaseRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -764,6 +805,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumQoSReleaseRequestsReceived(Long numQoSReleaseRequestsReceived) {
 		this.numQoSReleaseRequestsReceived = numQoSReleaseRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -785,6 +827,7 @@ public class QoSStats {
 	 */
 	public void  setNumConnectionCloseInitiatedNoRANRsr(Long numConnectionCloseInitiatedNoRANRsr) {
 		this.numConnectionCloseInitiatedNoRANRsr = numConnectionCloseInitiatedNoRANRsr;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -796,6 +839,7 @@ public class QoSStats {
 	 */
 	public QoSStats withNumConnectionCloseInitiatedNoRANRsr(Long numConnectionCloseInitiatedNoRANRsr) {
 		this.numConnectionCloseInitiatedNoRANRsr = numConnectionCloseInitiatedNoRANRsr;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
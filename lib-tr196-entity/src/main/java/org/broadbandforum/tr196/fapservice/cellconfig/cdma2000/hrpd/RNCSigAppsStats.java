@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Stats for HRPD RNC signaling procedures.
@@ -307,6 +308,11 @@ public class RNCSigAppsStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long cnumMiscDropsDueToRLP;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RNCSigAppsStats() {
 	}
 
@@ -329,6 +335,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumPageRequests(Long cnumPageRequests) {
 		this.cnumPageRequests = cnumPageRequests;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -340,6 +347,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumPageRequests(Long cnumPageRequests) {
 		this.cnumPageRequests = cnumPageRequests;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -361,6 +369,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumPageRequests(Long snumPageRequests) {
 		this.snumPageRequests = snumPageRequests;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -372,6 +381,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumPageRequests(Long snumPageRequests) {
 		this.snumPageRequests = snumPageRequests;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -393,6 +403,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumConnectionSetupAttempts(Long snumConnectionSetupAttempts) {
 		this.snumConnectionSetupAttempts = snumConnectionSetupAttempts;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -404,6 +415,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumConnectionSetupAttempts(Long snumConnectionSetupAttempts) {
 		this.snumConnectionSetupAttempts = snumConnectionSetupAttempts;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -425,6 +437,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumConnectionSetupAttempts(Long cnumConnectionSetupAttempts) {
 		this.cnumConnectionSetupAttempts = cnumConnectionSetupAttempts;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -436,6 +449,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumConnectionSetupAttempts(Long cnumConnectionSetupAttempts) {
 		this.cnumConnectionSetupAttempts = cnumConnectionSetupAttempts;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -457,6 +471,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumConnectionSetupSuccess(Long snumConnectionSetupSuccess) {
 		this.snumConnectionSetupSuccess = snumConnectionSetupSuccess;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -468,6 +483,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumConnectionSetupSuccess(Long snumConnectionSetupSuccess) {
 		this.snumConnectionSetupSuccess = snumConnectionSetupSuccess;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -489,6 +505,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumConnectionSetupSuccess(Long cnumConnectionSetupSuccess) {
 		this.cnumConnectionSetupSuccess = cnumConnectionSetupSuccess;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -500,6 +517,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumConnectionSetupSuccess(Long cnumConnectionSetupSuccess) {
 		this.cnumConnectionSetupSuccess = cnumConnectionSetupSuccess;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -521,6 +539,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumNormalConnectionCloses(Long snumNormalConnectionCloses) {
 		this.snumNormalConnectionCloses = snumNormalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -532,6 +551,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumNormalConnectionCloses(Long snumNormalConnectionCloses) {
 		this.snumNormalConnectionCloses = snumNormalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -553,6 +573,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumNormalConnectionCloses(Long cnumNormalConnectionCloses) {
 		this.cnumNormalConnectionCloses = cnumNormalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -564,6 +585,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumNormalConnectionCloses(Long cnumNormalConnectionCloses) {
 		this.cnumNormalConnectionCloses = cnumNormalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -585,6 +607,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumTotalConnectionCloses(Long snumTotalConnectionCloses) {
 		this.snumTotalConnectionCloses = snumTotalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -596,6 +619,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumTotalConnectionCloses(Long snumTotalConnectionCloses) {
 		this.snumTotalConnectionCloses = snumTotalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -617,6 +641,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumTotalConnectionCloses(Long cnumTotalConnectionCloses) {
 		this.cnumTotalConnectionCloses = cnumTotalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -628,6 +653,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumTotalConnectionCloses(Long cnumTotalConnectionCloses) {
 		this.cnumTotalConnectionCloses = cnumTotalConnectionCloses;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -649,6 +675,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumRFRelatedDrops(Long snumRFRelatedDrops) {
 		this.snumRFRelatedDrops = snumRFRelatedDrops;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -660,6 +687,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumRFRelatedDrops(Long snumRFRelatedDrops) {
 		this.snumRFRelatedDrops = snumRFRelatedDrops;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -681,6 +709,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumRFRelatedDrops(Long cnumRFRelatedDrops) {
 		this.cnumRFRelatedDrops = cnumRFRelatedDrops;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -692,6 +721,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumRFRelatedDrops(Long cnumRFRelatedDrops) {
 		this.cnumRFRelatedDrops = cnumRFRelatedDrops;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -713,6 +743,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumPageResponses(Long snumPageResponses) {
 		this.snumPageResponses = snumPageResponses;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -724,6 +755,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumPageResponses(Long snumPageResponses) {
 		this.snumPageResponses = snumPageResponses;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -745,6 +777,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumPageResponses(Long cnumPageResponses) {
 		this.cnumPageResponses = cnumPageResponses;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -756,6 +789,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumPageResponses(Long cnumPageResponses) {
 		this.cnumPageResponses = cnumPageResponses;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -777,6 +811,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumRFRelatedDropsRTCLost(Long snumRFRelatedDropsRTCLost) {
 		this.snumRFRelatedDropsRTCLost = snumRFRelatedDropsRTCLost;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -788,6 +823,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumRFRelatedDropsRTCLost(Long snumRFRelatedDropsRTCLost) {
 		this.snumRFRelatedDropsRTCLost = snumRFRelatedDropsRTCLost;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -809,6 +845,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumRFRelatedDropsRTCLost(Long cnumRFRelatedDropsRTCLost) {
 		this.cnumRFRelatedDropsRTCLost = cnumRFRelatedDropsRTCLost;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -820,6 +857,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumRFRelatedDropsRTCLost(Long cnumRFRelatedDropsRTCLost) {
 		this.cnumRFRelatedDropsRTCLost = cnumRFRelatedDropsRTCLost;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -841,6 +879,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumRFRelatedDropsNoFTC(Long snumRFRelatedDropsNoFTC) {
 		this.snumRFRelatedDropsNoFTC = snumRFRelatedDropsNoFTC;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -852,6 +891,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumRFRelatedDropsNoFTC(Long snumRFRelatedDropsNoFTC) {
 		this.snumRFRelatedDropsNoFTC = snumRFRelatedDropsNoFTC;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -873,6 +913,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumRFRelatedDropsNoFTC(Long cnumRFRelatedDropsNoFTC) {
 		this.cnumRFRelatedDropsNoFTC = cnumRFRelatedDropsNoFTC;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -884,6 +925,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumRFRelatedDropsNoFTC(Long cnumRFRelatedDropsNoFTC) {
 		this.cnumRFRelatedDropsNoFTC = cnumRFRelatedDropsNoFTC;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -905,6 +947,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumNetworkErrorDrops(Long snumNetworkErrorDrops) {
 		this.snumNetworkErrorDrops = snumNetworkErrorDrops;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -916,6 +959,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumNetworkErrorDrops(Long snumNetworkErrorDrops) {
 		this.snumNetworkErrorDrops = snumNetworkErrorDrops;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -937,6 +981,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumNetworkErrorDrops(Long cnumNetworkErrorDrops) {
 		this.cnumNetworkErrorDrops = cnumNetworkErrorDrops;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -948,6 +993,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumNetworkErrorDrops(Long cnumNetworkErrorDrops) {
 		this.cnumNetworkErrorDrops = cnumNetworkErrorDrops;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -969,6 +1015,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumNetworkErrorDropsRNCInternal(Long snumNetworkErrorDropsRNCInternal) {
 		this.snumNetworkErrorDropsRNCInternal = snumNetworkErrorDropsRNCInternal;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -980,6 +1027,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumNetworkErrorDropsRNCInternal(Long snumNetworkErrorDropsRNCInternal) {
 		this.snumNetworkErrorDropsRNCInternal = snumNetworkErrorDropsRNCInternal;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1001,6 +1049,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumNetworkErrorDropsRNCInternal(Long cnumNetworkErrorDropsRNCInternal) {
 		this.cnumNetworkErrorDropsRNCInternal = cnumNetworkErrorDropsRNCInternal;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1012,6 +1061,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumNetworkErrorDropsRNCInternal(Long cnumNetworkErrorDropsRNCInternal) {
 		this.cnumNetworkErrorDropsRNCInternal = cnumNetworkErrorDropsRNCInternal;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1033,6 +1083,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumNetworkErrorDropsRNCExternal(Long snumNetworkErrorDropsRNCExternal) {
 		this.snumNetworkErrorDropsRNCExternal = snumNetworkErrorDropsRNCExternal;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1044,6 +1095,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumNetworkErrorDropsRNCExternal(Long snumNetworkErrorDropsRNCExternal) {
 		this.snumNetworkErrorDropsRNCExternal = snumNetworkErrorDropsRNCExternal;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1065,6 +1117,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumNetworkErrorDropsRNCExternal(Long cnumNetworkErrorDropsRNCExternal) {
 		this.cnumNetworkErrorDropsRNCExternal = cnumNetworkErrorDropsRNCExternal;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1076,6 +1129,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumNetworkErrorDropsRNCExternal(Long cnumNetworkErrorDropsRNCExternal) {
 		this.cnumNetworkErrorDropsRNCExternal = cnumNetworkErrorDropsRNCExternal;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1097,6 +1151,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumNetworkErrorDropsA10SetupFail(Long snumNetworkErrorDropsA10SetupFail) {
 		this.snumNetworkErrorDropsA10SetupFail = snumNetworkErrorDropsA10SetupFail;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1108,6 +1163,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumNetworkErrorDropsA10SetupFail(Long snumNetworkErrorDropsA10SetupFail) {
 		this.snumNetworkErrorDropsA10SetupFail = snumNetworkErrorDropsA10SetupFail;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1129,6 +1185,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumNetworkErrorDropsA10SetupFail(Long cnumNetworkErrorDropsA10SetupFail) {
 		this.cnumNetworkErrorDropsA10SetupFail = cnumNetworkErrorDropsA10SetupFail;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1140,6 +1197,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumNetworkErrorDropsA10SetupFail(Long cnumNetworkErrorDropsA10SetupFail) {
 		this.cnumNetworkErrorDropsA10SetupFail = cnumNetworkErrorDropsA10SetupFail;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1161,6 +1219,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumMiscDropsSectorDown(Long snumMiscDropsSectorDown) {
 		this.snumMiscDropsSectorDown = snumMiscDropsSectorDown;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1172,6 +1231,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumMiscDropsSectorDown(Long snumMiscDropsSectorDown) {
 		this.snumMiscDropsSectorDown = snumMiscDropsSectorDown;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1193,6 +1253,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumMiscDropsSectorDown(Long cnumMiscDropsSectorDown) {
 		this.cnumMiscDropsSectorDown = cnumMiscDropsSectorDown;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1204,6 +1265,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumMiscDropsSectorDown(Long cnumMiscDropsSectorDown) {
 		this.cnumMiscDropsSectorDown = cnumMiscDropsSectorDown;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1225,6 +1287,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumMiscDropsInternalError(Long snumMiscDropsInternalError) {
 		this.snumMiscDropsInternalError = snumMiscDropsInternalError;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1236,6 +1299,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumMiscDropsInternalError(Long snumMiscDropsInternalError) {
 		this.snumMiscDropsInternalError = snumMiscDropsInternalError;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1257,6 +1321,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumMiscDropsInternalError(Long cnumMiscDropsInternalError) {
 		this.cnumMiscDropsInternalError = cnumMiscDropsInternalError;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1268,6 +1333,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumMiscDropsInternalError(Long cnumMiscDropsInternalError) {
 		this.cnumMiscDropsInternalError = cnumMiscDropsInternalError;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1289,6 +1355,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumMiscDropsStateMismatch(Long cnumMiscDropsStateMismatch) {
 		this.cnumMiscDropsStateMismatch = cnumMiscDropsStateMismatch;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1300,6 +1367,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumMiscDropsStateMismatch(Long cnumMiscDropsStateMismatch) {
 		this.cnumMiscDropsStateMismatch = cnumMiscDropsStateMismatch;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1321,6 +1389,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumMiscDropsStateMismatch(Long snumMiscDropsStateMismatch) {
 		this.snumMiscDropsStateMismatch = snumMiscDropsStateMismatch;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1332,6 +1401,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumMiscDropsStateMismatch(Long snumMiscDropsStateMismatch) {
 		this.snumMiscDropsStateMismatch = snumMiscDropsStateMismatch;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1353,6 +1423,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setSnumMiscDropsDueToRLP(Long snumMiscDropsDueToRLP) {
 		this.snumMiscDropsDueToRLP = snumMiscDropsDueToRLP;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1364,6 +1435,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withSnumMiscDropsDueToRLP(Long snumMiscDropsDueToRLP) {
 		this.snumMiscDropsDueToRLP = snumMiscDropsDueToRLP;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1385,6 +1457,7 @@ public class RNCSigAppsStats {
 	 */
 	public void  setCnumMiscDropsDueToRLP(Long cnumMiscDropsDueToRLP) {
 		this.cnumMiscDropsDueToRLP = cnumMiscDropsDueToRLP;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -1396,6 +1469,7 @@ public class RNCSigAppsStats {
 	 */
 	public RNCSigAppsStats withCnumMiscDropsDueToRLP(Long cnumMiscDropsDueToRLP) {
 		this.cnumMiscDropsDueToRLP = cnumMiscDropsDueToRLP;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
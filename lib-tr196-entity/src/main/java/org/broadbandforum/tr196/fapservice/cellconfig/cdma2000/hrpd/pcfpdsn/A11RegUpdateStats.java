@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -174,6 +175,11 @@ public class A11RegUpdateStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long a11RegUpdateWithoutReasonCodePDSN;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public A11RegUpdateStats() {
 	}
 
@@ -196,6 +202,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setPdsNNumberRegUpdatePerf(Integer pdsNNumberRegUpdatePerf) {
 		this.pdsNNumberRegUpdatePerf = pdsNNumberRegUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -207,6 +214,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withPdsNNumberRegUpdatePerf(Integer pdsNNumberRegUpdatePerf) {
 		this.pdsNNumberRegUpdatePerf = pdsNNumberRegUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -228,6 +236,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setPdsNIPAddressRegUpdatePerf(IPAddress pdsNIPAddressRegUpdatePerf) {
 		this.pdsNIPAddressRegUpdatePerf = pdsNIPAddressRegUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -239,6 +248,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withPdsNIPAddressRegUpdatePerf(IPAddress pdsNIPAddressRegUpdatePerf) {
 		this.pdsNIPAddressRegUpdatePerf = pdsNIPAddressRegUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +270,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateReceivedPDSN(Long a11RegUpdateReceivedPDSN) {
 		this.a11RegUpdateReceivedPDSN = a11RegUpdateReceivedPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -271,6 +282,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateReceivedPDSN(Long a11RegUpdateReceivedPDSN) {
 		this.a11RegUpdateReceivedPDSN = a11RegUpdateReceivedPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -292,6 +304,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateIDCheckFailPDSN(Long a11RegUpdateIDCheckFailPDSN) {
 		this.a11RegUpdateIDCheckFailPDSN = a11RegUpdateIDCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -303,6 +316,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateIDCheckFailPDSN(Long a11RegUpdateIDCheckFailPDSN) {
 		this.a11RegUpdateIDCheckFailPDSN = a11RegUpdateIDCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -324,6 +338,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateAuthCheckFailPDSN(Long a11RegUpdateAuthCheckFailPDSN) {
 		this.a11RegUpdateAuthCheckFailPDSN = a11RegUpdateAuthCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -335,6 +350,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateAuthCheckFailPDSN(Long a11RegUpdateAuthCheckFailPDSN) {
 		this.a11RegUpdateAuthCheckFailPDSN = a11RegUpdateAuthCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -356,6 +372,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateForUnknownPSIPDSN(Long a11RegUpdateForUnknownPSIPDSN) {
 		this.a11RegUpdateForUnknownPSIPDSN = a11RegUpdateForUnknownPSIPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -367,6 +384,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateForUnknownPSIPDSN(Long a11RegUpdateForUnknownPSIPDSN) {
 		this.a11RegUpdateForUnknownPSIPDSN = a11RegUpdateForUnknownPSIPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -388,6 +406,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateUnspecifiedReasonPDSN(Long a11RegUpdateUnspecifiedReasonPDSN) {
 		this.a11RegUpdateUnspecifiedReasonPDSN = a11RegUpdateUnspecifiedReasonPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -399,6 +418,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateUnspecifiedReasonPDSN(Long a11RegUpdateUnspecifiedReasonPDSN) {
 		this.a11RegUpdateUnspecifiedReasonPDSN = a11RegUpdateUnspecifiedReasonPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -420,6 +440,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdatePppTimeoutPDSN(Long a11RegUpdatePppTimeoutPDSN) {
 		this.a11RegUpdatePppTimeoutPDSN = a11RegUpdatePppTimeoutPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -431,6 +452,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdatePppTimeoutPDSN(Long a11RegUpdatePppTimeoutPDSN) {
 		this.a11RegUpdatePppTimeoutPDSN = a11RegUpdatePppTimeoutPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -452,6 +474,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateRegistrationTimeoutPDSN(Long a11RegUpdateRegistrationTimeoutPDSN) {
 		this.a11RegUpdateRegistrationTimeoutPDSN = a11RegUpdateRegistrationTimeoutPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -463,6 +486,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateRegistrationTimeoutPDSN(Long a11RegUpdateRegistrationTimeoutPDSN) {
 		this.a11RegUpdateRegistrationTimeoutPDSN = a11RegUpdateRegistrationTimeoutPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -484,6 +508,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdatePDSNErrorPDSN(Long a11RegUpdatePDSNErrorPDSN) {
 		this.a11RegUpdatePDSNErrorPDSN = a11RegUpdatePDSNErrorPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -495,6 +520,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdatePDSNErrorPDSN(Long a11RegUpdatePDSNErrorPDSN) {
 		this.a11RegUpdatePDSNErrorPDSN = a11RegUpdatePDSNErrorPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -516,6 +542,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateInterPCFHandoffPDSN(Long a11RegUpdateInterPCFHandoffPDSN) {
 		this.a11RegUpdateInterPCFHandoffPDSN = a11RegUpdateInterPCFHandoffPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -527,6 +554,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateInterPCFHandoffPDSN(Long a11RegUpdateInterPCFHandoffPDSN) {
 		this.a11RegUpdateInterPCFHandoffPDSN = a11RegUpdateInterPCFHandoffPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -548,6 +576,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateInterPDSNHandoffPDSN(Long a11RegUpdateInterPDSNHandoffPDSN) {
 		this.a11RegUpdateInterPDSNHandoffPDSN = a11RegUpdateInterPDSNHandoffPDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -559,6 +588,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateInterPDSNHandoffPDSN(Long a11RegUpdateInterPDSNHandoffPDSN) {
 		this.a11RegUpdateInterPDSNHandoffPDSN = a11RegUpdateInterPDSNHandoffPDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -580,6 +610,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdatePDSNOAMPInterventionPDSN(Long a11RegUpdatePDSNOAMPInterventionPDSN) {
 		this.a11RegUpdatePDSNOAMPInterventionPDSN = a11RegUpdatePDSNOAMPInterventionPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -591,6 +622,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdatePDSNOAMPInterventionPDSN(Long a11RegUpdatePDSNOAMPInterventionPDSN) {
 		this.a11RegUpdatePDSNOAMPInterventionPDSN = a11RegUpdatePDSNOAMPInterventionPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -612,6 +644,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateAccountingErrorPDSN(Long a11RegUpdateAccountingErrorPDSN) {
 		this.a11RegUpdateAccountingErrorPDSN = a11RegUpdateAccountingErrorPDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -623,6 +656,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateAccountingErrorPDSN(Long a11RegUpdateAccountingErrorPDSN) {
 		this.a11RegUpdateAccountingErrorPDSN = a11RegUpdateAccountingErrorPDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -644,6 +678,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateUserFailedAuthenticationPDSN(Long a11RegUpdateUserFailedAuthenticationPDSN) {
 		this.a11RegUpdateUserFailedAuthenticationPDSN = a11RegUpdateUserFailedAuthenticationPDSN;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -655,6 +690,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateUserFailedAuthenticationPDSN(Long a11RegUpdateUserFailedAuthenticationPDSN) {
 		this.a11RegUpdateUserFailedAuthenticationPDSN = a11RegUpdateUserFailedAuthenticationPDSN;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -676,6 +712,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateUnknownCauseCodePDSN(Long a11RegUpdateUnknownCauseCodePDSN) {
 		this.a11RegUpdateUnknownCauseCodePDSN = a11RegUpdateUnknownCauseCodePDSN;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -687,6 +724,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateUnknownCauseCodePDSN(Long a11RegUpdateUnknownCauseCodePDSN) {
 		this.a11RegUpdateUnknownCauseCodePDSN = a11RegUpdateUnknownCauseCodePDSN;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -708,6 +746,7 @@ public class A11RegUpdateStats {
 	 */
 	public void  setA11RegUpdateWithoutReasonCodePDSN(Long a11RegUpdateWithoutReasonCodePDSN) {
 		this.a11RegUpdateWithoutReasonCodePDSN = a11RegUpdateWithoutReasonCodePDSN;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -719,6 +758,7 @@ public class A11RegUpdateStats {
 	 */
 	public A11RegUpdateStats withA11RegUpdateWithoutReasonCodePDSN(Long a11RegUpdateWithoutReasonCodePDSN) {
 		this.a11RegUpdateWithoutReasonCodePDSN = a11RegUpdateWithoutReasonCodePDSN;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -150,6 +151,11 @@ public class A11SessionUpdateStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long a11SessionUpdateDeniedHandoffInProgressPDSN;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public A11SessionUpdateStats() {
 	}
 
@@ -172,6 +178,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setPdsNNumberSessionUpdatePerf(Integer pdsNNumberSessionUpdatePerf) {
 		this.pdsNNumberSessionUpdatePerf = pdsNNumberSessionUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -183,6 +190,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withPdsNNumberSessionUpdatePerf(Integer pdsNNumberSessionUpdatePerf) {
 		this.pdsNNumberSessionUpdatePerf = pdsNNumberSessionUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -204,6 +212,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setPdsNIPAddressSessionUpdatePerf(IPAddress pdsNIPAddressSessionUpdatePerf) {
 		this.pdsNIPAddressSessionUpdatePerf = pdsNIPAddressSessionUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -215,6 +224,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withPdsNIPAddressSessionUpdatePerf(IPAddress pdsNIPAddressSessionUpdatePerf) {
 		this.pdsNIPAddressSessionUpdatePerf = pdsNIPAddressSessionUpdatePerf;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -236,6 +246,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateReceivedPDSN(Long a11SessionUpdateReceivedPDSN) {
 		this.a11SessionUpdateReceivedPDSN = a11SessionUpdateReceivedPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -247,6 +258,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateReceivedPDSN(Long a11SessionUpdateReceivedPDSN) {
 		this.a11SessionUpdateReceivedPDSN = a11SessionUpdateReceivedPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -268,6 +280,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateAcceptedPDSN(Long a11SessionUpdateAcceptedPDSN) {
 		this.a11SessionUpdateAcceptedPDSN = a11SessionUpdateAcceptedPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -279,6 +292,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateAcceptedPDSN(Long a11SessionUpdateAcceptedPDSN) {
 		this.a11SessionUpdateAcceptedPDSN = a11SessionUpdateAcceptedPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -300,6 +314,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateExtendedAPIPDSN(Long a11SessionUpdateExtendedAPIPDSN) {
 		this.a11SessionUpdateExtendedAPIPDSN = a11SessionUpdateExtendedAPIPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -311,6 +326,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateExtendedAPIPDSN(Long a11SessionUpdateExtendedAPIPDSN) {
 		this.a11SessionUpdateExtendedAPIPDSN = a11SessionUpdateExtendedAPIPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -332,6 +348,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateForUnknownPSIPDSN(Long a11SessionUpdateForUnknownPSIPDSN) {
 		this.a11SessionUpdateForUnknownPSIPDSN = a11SessionUpdateForUnknownPSIPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -343,6 +360,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateForUnknownPSIPDSN(Long a11SessionUpdateForUnknownPSIPDSN) {
 		this.a11SessionUpdateForUnknownPSIPDSN = a11SessionUpdateForUnknownPSIPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -364,6 +382,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedIDCheckFailPDSN(Long a11SessionUpdateDeniedIDCheckFailPDSN) {
 		this.a11SessionUpdateDeniedIDCheckFailPDSN = a11SessionUpdateDeniedIDCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -375,6 +394,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedIDCheckFailPDSN(Long a11SessionUpdateDeniedIDCheckFailPDSN) {
 		this.a11SessionUpdateDeniedIDCheckFailPDSN = a11SessionUpdateDeniedIDCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -396,6 +416,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedAuthCheckFailPDSN(Long a11SessionUpdateDeniedAuthCheckFailPDSN) {
 		this.a11SessionUpdateDeniedAuthCheckFailPDSN = a11SessionUpdateDeniedAuthCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -407,6 +428,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedAuthCheckFailPDSN(Long a11SessionUpdateDeniedAuthCheckFailPDSN) {
 		this.a11SessionUpdateDeniedAuthCheckFailPDSN = a11SessionUpdateDeniedAuthCheckFailPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -428,6 +450,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedReasonUnspecifiedPDSN(Long a11SessionUpdateDeniedReasonUnspecifiedPDSN) {
 		this.a11SessionUpdateDeniedReasonUnspecifiedPDSN = a11SessionUpdateDeniedReasonUnspecifiedPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -439,6 +462,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedReasonUnspecifiedPDSN(Long a11SessionUpdateDeniedReasonUnspecifiedPDSN) {
 		this.a11SessionUpdateDeniedReasonUnspecifiedPDSN = a11SessionUpdateDeniedReasonUnspecifiedPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -460,6 +484,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedPoorlyFormedPDSN(Long a11SessionUpdateDeniedPoorlyFormedPDSN) {
 		this.a11SessionUpdateDeniedPoorlyFormedPDSN = a11SessionUpdateDeniedPoorlyFormedPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -471,6 +496,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedPoorlyFormedPDSN(Long a11SessionUpdateDeniedPoorlyFormedPDSN) {
 		this.a11SessionUpdateDeniedPoorlyFormedPDSN = a11SessionUpdateDeniedPoorlyFormedPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -492,6 +518,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedSessionParamsNotUpdatedPDSN(Long a11SessionUpdateDeniedSessionParamsNotUpdatedPDSN) {
 		this.a11SessionUpdateDeniedSessionParamsNotUpdatedPDSN = a11SessionUpdateDeniedSessionParamsNotUpdatedPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -503,6 +530,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedSessionParamsNotUpdatedPDSN(Long a11SessionUpdateDeniedSessionParamsNotUpdatedPDSN) {
 		this.a11SessionUpdateDeniedSessionParamsNotUpdatedPDSN = a11SessionUpdateDeniedSessionParamsNotUpdatedPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -524,6 +552,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN(Long a11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN) {
 		this.a11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN = a11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -535,6 +564,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN(Long a11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN) {
 		this.a11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN = a11SessionUpdateDeniedQoSProfileIdNotSupportedPDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -556,6 +586,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedInsufficientResourcesPDSN(Long a11SessionUpdateDeniedInsufficientResourcesPDSN) {
 		this.a11SessionUpdateDeniedInsufficientResourcesPDSN = a11SessionUpdateDeniedInsufficientResourcesPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -567,6 +598,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedInsufficientResourcesPDSN(Long a11SessionUpdateDeniedInsufficientResourcesPDSN) {
 		this.a11SessionUpdateDeniedInsufficientResourcesPDSN = a11SessionUpdateDeniedInsufficientResourcesPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -588,6 +620,7 @@ public class A11SessionUpdateStats {
 	 */
 	public void  setA11SessionUpdateDeniedHandoffInProgressPDSN(Long a11SessionUpdateDeniedHandoffInProgressPDSN) {
 		this.a11SessionUpdateDeniedHandoffInProgressPDSN = a11SessionUpdateDeniedHandoffInProgressPDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -599,6 +632,7 @@ public class A11SessionUpdateStats {
 	 */
 	public A11SessionUpdateStats withA11SessionUpdateDeniedHandoffInProgressPDSN(Long a11SessionUpdateDeniedHandoffInProgressPDSN) {
 		this.a11SessionUpdateDeniedHandoffInProgressPDSN = a11SessionUpdateDeniedHandoffInProgressPDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -94,6 +95,11 @@ public class AuxA10Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long auxA10IpFlowAccountingRegRequestsPDSN;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AuxA10Stats() {
 	}
 
@@ -116,6 +122,7 @@ public class AuxA10Stats {
 	 */
 	public void  setPdsNNumberAuxA10Perf(Integer pdsNNumberAuxA10Perf) {
 		this.pdsNNumberAuxA10Perf = pdsNNumberAuxA10Perf;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -127,6 +134,7 @@ public class AuxA10Stats {
 	 */
 	public AuxA10Stats withPdsNNumberAuxA10Perf(Integer pdsNNumberAuxA10Perf) {
 		this.pdsNNumberAuxA10Perf = pdsNNumberAuxA10Perf;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -148,6 +156,7 @@ public class AuxA10Stats {
 	 */
 	public void  setPdsNIPAddressAuxA10Perf(IPAddress pdsNIPAddressAuxA10Perf) {
 		this.pdsNIPAddressAuxA10Perf = pdsNIPAddressAuxA10Perf;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -159,6 +168,7 @@ public class AuxA10Stats {
 	 */
 	public AuxA10Stats withPdsNIPAddressAuxA10Perf(IPAddress pdsNIPAddressAuxA10Perf) {
 		this.pdsNIPAddressAuxA10Perf = pdsNIPAddressAuxA10Perf;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -180,6 +190,7 @@ public class AuxA10Stats {
 	 */
 	public void  setAuxA10ConnectionsCreatedInFirstRegReqPDSN(Long auxA10ConnectionsCreatedInFirstRegReqPDSN) {
 		this.auxA10ConnectionsCreatedInFirstRegReqPDSN = auxA10ConnectionsCreatedInFirstRegReqPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -191,6 +202,7 @@ public class AuxA10Stats {
 	 */
 	public AuxA10Stats withAuxA10ConnectionsCreatedInFirstRegReqPDSN(Long auxA10ConnectionsCreatedInFirstRegReqPDSN) {
 		this.auxA10ConnectionsCreatedInFirstRegReqPDSN = auxA10ConnectionsCreatedInFirstRegReqPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -212,6 +224,7 @@ public class AuxA10Stats {
 	 */
 	public void  setAuxA10ConnectionsCreatedInSubsequentRegReqPDSN(Long auxA10ConnectionsCreatedInSubsequentRegReqPDSN) {
 		this.auxA10ConnectionsCreatedInSubsequentRegReqPDSN = auxA10ConnectionsCreatedInSubsequentRegReqPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -223,6 +236,7 @@ public class AuxA10Stats {
 	 */
 	public AuxA10Stats withAuxA10ConnectionsCreatedInSubsequentRegReqPDSN(Long auxA10ConnectionsCreatedInSubsequentRegReqPDSN) {
 		this.auxA10ConnectionsCreatedInSubsequentRegReqPDSN = auxA10ConnectionsCreatedInSubsequentRegReqPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -244,6 +258,7 @@ public class AuxA10Stats {
 	 */
 	public void  setAuxA10FwdIpFlowsCreatedPDSN(Long auxA10FwdIpFlowsCreatedPDSN) {
 		this.auxA10FwdIpFlowsCreatedPDSN = auxA10FwdIpFlowsCreatedPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -255,6 +270,7 @@ public class AuxA10Stats {
 	 */
 	public AuxA10Stats withAuxA10FwdIpFlowsCreatedPDSN(Long auxA10FwdIpFlowsCreatedPDSN) {
 		this.auxA10FwdIpFlowsCreatedPDSN = auxA10FwdIpFlowsCreatedPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -276,6 +292,7 @@ public class AuxA10Stats {
 	 */
 	public void  setAuxA10RevIpFlowsCreatedPDSN(Long auxA10RevIpFlowsCreatedPDSN) {
 		this.auxA10RevIpFlowsCreatedPDSN = auxA10RevIpFlowsCreatedPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -287,6 +304,7 @@ public class AuxA10Stats {
 	 */
 	public AuxA10Stats withAuxA10RevIpFlowsCreatedPDSN(Long auxA10RevIpFlowsCreatedPDSN) {
 		this.auxA10RevIpFlowsCreatedPDSN = auxA10RevIpFlowsCreatedPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -308,6 +326,7 @@ public class AuxA10Stats {
 	 */
 	public void  setAuxA10IpFlowAccountingRegRequestsPDSN(Long auxA10IpFlowAccountingRegRequestsPDSN) {
 		this.auxA10IpFlowAccountingRegRequestsPDSN = auxA10IpFlowAccountingRegRequestsPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -319,6 +338,7 @@ public class AuxA10Stats {
 	 */
 	public AuxA10Stats withAuxA10IpFlowAccountingRegRequestsPDSN(Long auxA10IpFlowAccountingRegRequestsPDSN) {
 		this.auxA10IpFlowAccountingRegRequestsPDSN = auxA10IpFlowAccountingRegRequestsPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -184,6 +185,11 @@ public class PCFPDSNStats {
 	@XmlElement(name = "PDSNipAddressPDSNPerf")
 	public IPAddress pdsNipAddressPDSNPerf;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PCFPDSNStats() {
 	}
 
@@ -206,6 +212,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10SetupAttemptsPDSN(Long a10SetupAttemptsPDSN) {
 		this.a10SetupAttemptsPDSN = a10SetupAttemptsPDSN;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -217,6 +224,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10SetupAttemptsPDSN(Long a10SetupAttemptsPDSN) {
 		this.a10SetupAttemptsPDSN = a10SetupAttemptsPDSN;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -238,6 +246,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10SetupSuccessesPDSN(Long a10SetupSuccessesPDSN) {
 		this.a10SetupSuccessesPDSN = a10SetupSuccessesPDSN;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -249,6 +258,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10SetupSuccessesPDSN(Long a10SetupSuccessesPDSN) {
 		this.a10SetupSuccessesPDSN = a10SetupSuccessesPDSN;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -270,6 +280,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10SetupBlocksPDSN(Long a10SetupBlocksPDSN) {
 		this.a10SetupBlocksPDSN = a10SetupBlocksPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -281,6 +292,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10SetupBlocksPDSN(Long a10SetupBlocksPDSN) {
 		this.a10SetupBlocksPDSN = a10SetupBlocksPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -302,6 +314,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedIdMismatchPDSN(Long a11RegReqDeniedIdMismatchPDSN) {
 		this.a11RegReqDeniedIdMismatchPDSN = a11RegReqDeniedIdMismatchPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -313,6 +326,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedIdMismatchPDSN(Long a11RegReqDeniedIdMismatchPDSN) {
 		this.a11RegReqDeniedIdMismatchPDSN = a11RegReqDeniedIdMismatchPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -334,6 +348,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedUnknownPDSNPDSN(Long a11RegReqDeniedUnknownPDSNPDSN) {
 		this.a11RegReqDeniedUnknownPDSNPDSN = a11RegReqDeniedUnknownPDSNPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -345,6 +360,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedUnknownPDSNPDSN(Long a11RegReqDeniedUnknownPDSNPDSN) {
 		this.a11RegReqDeniedUnknownPDSNPDSN = a11RegReqDeniedUnknownPDSNPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -366,6 +382,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedNoReasonPDSN(Long a11RegReqDeniedNoReasonPDSN) {
 		this.a11RegReqDeniedNoReasonPDSN = a11RegReqDeniedNoReasonPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -377,6 +394,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedNoReasonPDSN(Long a11RegReqDeniedNoReasonPDSN) {
 		this.a11RegReqDeniedNoReasonPDSN = a11RegReqDeniedNoReasonPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -398,6 +416,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedAdminProhibitPDSN(Long a11RegReqDeniedAdminProhibitPDSN) {
 		this.a11RegReqDeniedAdminProhibitPDSN = a11RegReqDeniedAdminProhibitPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -409,6 +428,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedAdminProhibitPDSN(Long a11RegReqDeniedAdminProhibitPDSN) {
 		this.a11RegReqDeniedAdminProhibitPDSN = a11RegReqDeniedAdminProhibitPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -430,6 +450,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedInsuffResourcesPDSN(Long a11RegReqDeniedInsuffResourcesPDSN) {
 		this.a11RegReqDeniedInsuffResourcesPDSN = a11RegReqDeniedInsuffResourcesPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -441,6 +462,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedInsuffResourcesPDSN(Long a11RegReqDeniedInsuffResourcesPDSN) {
 		this.a11RegReqDeniedInsuffResourcesPDSN = a11RegReqDeniedInsuffResourcesPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -462,6 +484,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedFailedAuthPDSN(Long a11RegReqDeniedFailedAuthPDSN) {
 		this.a11RegReqDeniedFailedAuthPDSN = a11RegReqDeniedFailedAuthPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -473,6 +496,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedFailedAuthPDSN(Long a11RegReqDeniedFailedAuthPDSN) {
 		this.a11RegReqDeniedFailedAuthPDSN = a11RegReqDeniedFailedAuthPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -494,6 +518,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedMalformedReqPDSN(Long a11RegReqDeniedMalformedReqPDSN) {
 		this.a11RegReqDeniedMalformedReqPDSN = a11RegReqDeniedMalformedReqPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -505,6 +530,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedMalformedReqPDSN(Long a11RegReqDeniedMalformedReqPDSN) {
 		this.a11RegReqDeniedMalformedReqPDSN = a11RegReqDeniedMalformedReqPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -526,6 +552,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedUnsuppVendIdPDSN(Long a11RegReqDeniedUnsuppVendIdPDSN) {
 		this.a11RegReqDeniedUnsuppVendIdPDSN = a11RegReqDeniedUnsuppVendIdPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -537,6 +564,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedUnsuppVendIdPDSN(Long a11RegReqDeniedUnsuppVendIdPDSN) {
 		this.a11RegReqDeniedUnsuppVendIdPDSN = a11RegReqDeniedUnsuppVendIdPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -558,6 +586,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedReverseTunnelUnavailablePDSN(Long a11RegReqDeniedReverseTunnelUnavailablePDSN) {
 		this.a11RegReqDeniedReverseTunnelUnavailablePDSN = a11RegReqDeniedReverseTunnelUnavailablePDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -569,6 +598,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedReverseTunnelUnavailablePDSN(Long a11RegReqDeniedReverseTunnelUnavailablePDSN) {
 		this.a11RegReqDeniedReverseTunnelUnavailablePDSN = a11RegReqDeniedReverseTunnelUnavailablePDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -590,6 +620,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedReverseTunnelTbitNotSetPDSN(Long a11RegReqDeniedReverseTunnelTbitNotSetPDSN) {
 		this.a11RegReqDeniedReverseTunnelTbitNotSetPDSN = a11RegReqDeniedReverseTunnelTbitNotSetPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -601,6 +632,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedReverseTunnelTbitNotSetPDSN(Long a11RegReqDeniedReverseTunnelTbitNotSetPDSN) {
 		this.a11RegReqDeniedReverseTunnelTbitNotSetPDSN = a11RegReqDeniedReverseTunnelTbitNotSetPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -622,6 +654,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedUnknownErrorCodePDSN(Long a11RegReqDeniedUnknownErrorCodePDSN) {
 		this.a11RegReqDeniedUnknownErrorCodePDSN = a11RegReqDeniedUnknownErrorCodePDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -633,6 +666,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedUnknownErrorCodePDSN(Long a11RegReqDeniedUnknownErrorCodePDSN) {
 		this.a11RegReqDeniedUnknownErrorCodePDSN = a11RegReqDeniedUnknownErrorCodePDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -654,6 +688,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10RegReqForRegistrationRetransmissionsPDSN(Long a10RegReqForRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForRegistrationRetransmissionsPDSN = a10RegReqForRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -665,6 +700,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10RegReqForRegistrationRetransmissionsPDSN(Long a10RegReqForRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForRegistrationRetransmissionsPDSN = a10RegReqForRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -686,6 +722,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10RegReqForReRegistrationRetransmissionsPDSN(Long a10RegReqForReRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForReRegistrationRetransmissionsPDSN = a10RegReqForReRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -697,6 +734,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10RegReqForReRegistrationRetransmissionsPDSN(Long a10RegReqForReRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForReRegistrationRetransmissionsPDSN = a10RegReqForReRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -718,6 +756,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10RegReqForReleaseRetransmissionsPDSN(Long a10RegReqForReleaseRetransmissionsPDSN) {
 		this.a10RegReqForReleaseRetransmissionsPDSN = a10RegReqForReleaseRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -729,6 +768,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10RegReqForReleaseRetransmissionsPDSN(Long a10RegReqForReleaseRetransmissionsPDSN) {
 		this.a10RegReqForReleaseRetransmissionsPDSN = a10RegReqForReleaseRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -750,6 +790,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setPdsNNumberPDSNPerf(Integer pdsNNumberPDSNPerf) {
 		this.pdsNNumberPDSNPerf = pdsNNumberPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -761,6 +802,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withPdsNNumberPDSNPerf(Integer pdsNNumberPDSNPerf) {
 		this.pdsNNumberPDSNPerf = pdsNNumberPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -782,6 +824,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setPdsNipAddressPDSNPerf(IPAddress pdsNipAddressPDSNPerf) {
 		this.pdsNipAddressPDSNPerf = pdsNipAddressPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -793,6 +836,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withPdsNipAddressPDSNPerf(IPAddress pdsNipAddressPDSNPerf) {
 		this.pdsNipAddressPDSNPerf = pdsNipAddressPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
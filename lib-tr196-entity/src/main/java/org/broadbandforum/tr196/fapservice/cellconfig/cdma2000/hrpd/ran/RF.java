@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.hrpd.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Contains the details related to HRPD RF
@@ -284,6 +286,11 @@ The period in the access cycle duration for which the silence interval shall be
 	@Size(min = 1, max = 20)
 	public Long rfeRLBalanceRatio;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -306,6 +313,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setHrpDCarBandClass(Long hrpDCarBandClass) {
 		this.hrpDCarBandClass = hrpDCarBandClass;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -317,6 +325,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withHrpDCarBandClass(Long hrpDCarBandClass) {
 		this.hrpDCarBandClass = hrpDCarBandClass;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -331,6 +340,17 @@ The period in the access cycle duration for which the silence interval shall be
 		return rfcNFL;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a FL Radio Frequency Channel Number (RFCN). Self-configuration for RFCNFL is controlled by {{param|.Capabilities.CDMA2000.HRPD.SelfConfig.RFCNFLConfig}} from an availability perspective and {{param|.FAPControl.CDMA2000.HRPD.SelfConfig.RFCNFLSelfConfigEnable}} from an enabled perspective. If the FAP's self-configuration capability for RFCNFL is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for {{param|RFCNFLInUse}}. If the self-configuration capability is not available or not enabled, then  this parameter SHOULD contain only a single item. If multiple items are specified, they are done in the order of preference.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRfcNFL() {
+		return rfcNFL == null ? Collections.emptyList() : rfcNFL;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a FL Radio Frequency Channel Number (RFCN). Self-configuration for RFCNFL is controlled by {{param|.Capabilities.CDMA2000.HRPD.SelfConfig.RFCNFLConfig}} from an availability perspective and {{param|.FAPControl.CDMA2000.HRPD.SelfConfig.RFCNFLSelfConfigEnable}} from an enabled perspective. If the FAP's self-configuration capability for RFCNFL is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for {{param|RFCNFLInUse}}. If the self-configuration capability is not available or not enabled, then  this parameter SHOULD contain only a single item. If multiple items are specified, they are done in the order of preference.
 	 *
@@ -339,6 +359,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setRfcNFL(Collection<String> rfcNFL) {
 		this.rfcNFL = rfcNFL;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -350,6 +371,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withRfcNFL(String string) {
 		getRfcNFL().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -379,6 +401,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setRfcNFLInUse(Long rfcNFLInUse) {
 		this.rfcNFLInUse = rfcNFLInUse;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -394,6 +417,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withRfcNFLInUse(Long rfcNFLInUse) {
 		this.rfcNFLInUse = rfcNFLInUse;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -414,6 +438,23 @@ The order of the items has no significance.
 		return pilotPN;
 	}
 
+	/**
+	 * Read the {{list}} (maximum length 32) (minimum 1 items) of strings. Each item is a pilot PN offset in units of 64 PN chips. Self-configuration for pilot PN is controlled by {{param|.Capabilities.CDMA2000.HRPD.SelfConfig.PilotPNConfig}} from an availability perspective and {{param|.FAPControl.CDMA2000.HRPD.SelfConfig.PilotPNSelfConfigEnable}} from an enabled perspective.
+
+If the FAP's self-configuration capability for Pilot PN Offset is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for {{param|PilotPNInUse}}. If the self-configuration capability is not available or not enabled, then this parameter SHOULD contain only a single item.
+
+The multiplicity of the PN offsets values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive.
+
+The order of the items has no significance.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPilotPN() {
+		return pilotPN == null ? Collections.emptyList() : pilotPN;
+	}
+
 	/**
 	 * Set the {{list}} (maximum length 32) (minimum 1 items) of strings. Each item is a pilot PN offset in units of 64 PN chips. Self-configuration for pilot PN is controlled by {{param|.Capabilities.CDMA2000.HRPD.SelfConfig.PilotPNConfig}} from an availability perspective and {{param|.FAPControl.CDMA2000.HRPD.SelfConfig.PilotPNSelfConfigEnable}} from an enabled perspective.
 
@@ -428,6 +469,7 @@ The order of the items has no significance.
 	 */
 	public void  setPilotPN(Collection<String> pilotPN) {
 		this.pilotPN = pilotPN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -445,6 +487,7 @@ The order of the items has no significance.
 	 */
 	public RF withPilotPN(String string) {
 		getPilotPN().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -470,6 +513,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setPilotPNInUse(Long pilotPNInUse) {
 		this.pilotPNInUse = pilotPNInUse;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -483,6 +527,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RF withPilotPNInUse(Long pilotPNInUse) {
 		this.pilotPNInUse = pilotPNInUse;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -512,6 +557,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setMaxFAPTxPower(String maxFAPTxPower) {
 		this.maxFAPTxPower = maxFAPTxPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -527,6 +573,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withMaxFAPTxPower(String maxFAPTxPower) {
 		this.maxFAPTxPower = maxFAPTxPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -556,6 +603,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setMaxFAPTxPowerInUse(Integer maxFAPTxPowerInUse) {
 		this.maxFAPTxPowerInUse = maxFAPTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -571,6 +619,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withMaxFAPTxPowerInUse(Integer maxFAPTxPowerInUse) {
 		this.maxFAPTxPowerInUse = maxFAPTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -592,6 +641,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setControlChannelRate(Integer controlChannelRate) {
 		this.controlChannelRate = controlChannelRate;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -603,6 +653,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withControlChannelRate(Integer controlChannelRate) {
 		this.controlChannelRate = controlChannelRate;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -624,6 +675,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setSyncCapsuleOffset(Integer syncCapsuleOffset) {
 		this.syncCapsuleOffset = syncCapsuleOffset;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -635,6 +687,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withSyncCapsuleOffset(Integer syncCapsuleOffset) {
 		this.syncCapsuleOffset = syncCapsuleOffset;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -656,6 +709,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setRabLength(Integer rabLength) {
 		this.rabLength = rabLength;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -667,6 +721,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withRabLength(Integer rabLength) {
 		this.rabLength = rabLength;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -688,6 +743,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setRabOffset(Integer rabOffset) {
 		this.rabOffset = rabOffset;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -699,6 +755,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withRabOffset(Integer rabOffset) {
 		this.rabOffset = rabOffset;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -720,6 +777,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setSectorID(byte[] sectorID) {
 		this.sectorID = sectorID;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -731,6 +789,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withSectorID(byte[] sectorID) {
 		this.sectorID = sectorID;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -752,6 +811,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setColorCode(Integer colorCode) {
 		this.colorCode = colorCode;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -763,6 +823,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withColorCode(Integer colorCode) {
 		this.colorCode = colorCode;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -784,6 +845,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setSubnetMaskLength(Integer subnetMaskLength) {
 		this.subnetMaskLength = subnetMaskLength;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -795,6 +857,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withSubnetMaskLength(Integer subnetMaskLength) {
 		this.subnetMaskLength = subnetMaskLength;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -816,6 +879,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setHrpDSecElReverseLinkSilenceDuration(Integer hrpDSecElReverseLinkSilenceDuration) {
 		this.hrpDSecElReverseLinkSilenceDuration = hrpDSecElReverseLinkSilenceDuration;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -827,6 +891,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withHrpDSecElReverseLinkSilenceDuration(Integer hrpDSecElReverseLinkSilenceDuration) {
 		this.hrpDSecElReverseLinkSilenceDuration = hrpDSecElReverseLinkSilenceDuration;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -856,6 +921,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setHrpDSecElReverseLinkSilencePeriod(Integer hrpDSecElReverseLinkSilencePeriod) {
 		this.hrpDSecElReverseLinkSilencePeriod = hrpDSecElReverseLinkSilencePeriod;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -871,6 +937,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withHrpDSecElReverseLinkSilencePeriod(Integer hrpDSecElReverseLinkSilencePeriod) {
 		this.hrpDSecElReverseLinkSilencePeriod = hrpDSecElReverseLinkSilencePeriod;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -892,6 +959,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setOpenLoopAdjust(Integer openLoopAdjust) {
 		this.openLoopAdjust = openLoopAdjust;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -903,6 +971,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withOpenLoopAdjust(Integer openLoopAdjust) {
 		this.openLoopAdjust = openLoopAdjust;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -924,6 +993,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setProbeInitialAdjust(Integer probeInitialAdjust) {
 		this.probeInitialAdjust = probeInitialAdjust;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -935,6 +1005,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withProbeInitialAdjust(Integer probeInitialAdjust) {
 		this.probeInitialAdjust = probeInitialAdjust;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -956,6 +1027,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setProbeNumSteps(Integer probeNumSteps) {
 		this.probeNumSteps = probeNumSteps;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -967,6 +1039,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withProbeNumSteps(Integer probeNumSteps) {
 		this.probeNumSteps = probeNumSteps;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -988,6 +1061,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setProbePowerStep(Integer probePowerStep) {
 		this.probePowerStep = probePowerStep;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -999,6 +1073,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withProbePowerStep(Integer probePowerStep) {
 		this.probePowerStep = probePowerStep;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1020,6 +1095,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setApersistence(String apersistence) {
 		this.apersistence = apersistence;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1031,6 +1107,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withApersistence(String apersistence) {
 		this.apersistence = apersistence;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1052,6 +1129,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setRssIRABThreshold(Integer rssIRABThreshold) {
 		this.rssIRABThreshold = rssIRABThreshold;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1063,6 +1141,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withRssIRABThreshold(Integer rssIRABThreshold) {
 		this.rssIRABThreshold = rssIRABThreshold;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1084,6 +1163,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setLoadRABThreshold(Long loadRABThreshold) {
 		this.loadRABThreshold = loadRABThreshold;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1095,6 +1175,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withLoadRABThreshold(Long loadRABThreshold) {
 		this.loadRABThreshold = loadRABThreshold;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1116,6 +1197,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setConnectionRateLimit(Long connectionRateLimit) {
 		this.connectionRateLimit = connectionRateLimit;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1127,6 +1209,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withConnectionRateLimit(Long connectionRateLimit) {
 		this.connectionRateLimit = connectionRateLimit;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1148,6 +1231,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public void  setRfeRLBalanceRatio(Long rfeRLBalanceRatio) {
 		this.rfeRLBalanceRatio = rfeRLBalanceRatio;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1159,6 +1243,7 @@ The period in the access cycle duration for which the silence interval shall be
 	 */
 	public RF withRfeRLBalanceRatio(Long rfeRLBalanceRatio) {
 		this.rfeRLBalanceRatio = rfeRLBalanceRatio;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * The Batch configuration Object used to configure PDSN table using a start and end IP address. The order of the address is used as part of PDSN selection algorithm, e.g., the first element is considered PDSN number 0. (Refer to {{bibref|3GPP2-A.S0013}}). To get individual PDSN entries use the {{object|.CellConfig.CDMA2000.OneX.PCFPDSN.{i}.}}.
@@ -123,6 +125,16 @@ public class BatchPCFPDSN {
 	@CWMPParameter(access = "readWrite")
 	public String pdsNType;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public BatchPCFPDSN() {
 	}
 
@@ -145,6 +157,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -156,6 +169,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -177,6 +191,8 @@ public class BatchPCFPDSN {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -188,6 +204,8 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -209,6 +227,8 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableNumber(Integer batchTableNumber) {
 		this.batchTableNumber = batchTableNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -220,6 +240,8 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableNumber(Integer batchTableNumber) {
 		this.batchTableNumber = batchTableNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -241,6 +263,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableStartIPAddress(IPAddress batchTableStartIPAddress) {
 		this.batchTableStartIPAddress = batchTableStartIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -252,6 +275,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableStartIPAddress(IPAddress batchTableStartIPAddress) {
 		this.batchTableStartIPAddress = batchTableStartIPAddress;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -273,6 +297,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableEndIPAddress(IPAddress batchTableEndIPAddress) {
 		this.batchTableEndIPAddress = batchTableEndIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -284,6 +309,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableEndIPAddress(IPAddress batchTableEndIPAddress) {
 		this.batchTableEndIPAddress = batchTableEndIPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -305,6 +331,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableSecurityParameterIndex(Long batchTableSecurityParameterIndex) {
 		this.batchTableSecurityParameterIndex = batchTableSecurityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -316,6 +343,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableSecurityParameterIndex(Long batchTableSecurityParameterIndex) {
 		this.batchTableSecurityParameterIndex = batchTableSecurityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -337,6 +365,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableSecretKey(byte[] batchTableSecretKey) {
 		this.batchTableSecretKey = batchTableSecretKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -348,6 +377,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableSecretKey(byte[] batchTableSecretKey) {
 		this.batchTableSecretKey = batchTableSecretKey;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -369,6 +399,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTableIOSVersion(String batchTableIOSVersion) {
 		this.batchTableIOSVersion = batchTableIOSVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -380,6 +411,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTableIOSVersion(String batchTableIOSVersion) {
 		this.batchTableIOSVersion = batchTableIOSVersion;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -401,6 +433,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setBatchTablePDSNAdminStatus(Integer batchTablePDSNAdminStatus) {
 		this.batchTablePDSNAdminStatus = batchTablePDSNAdminStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -412,6 +445,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withBatchTablePDSNAdminStatus(Integer batchTablePDSNAdminStatus) {
 		this.batchTablePDSNAdminStatus = batchTablePDSNAdminStatus;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -433,6 +467,7 @@ public class BatchPCFPDSN {
 	 */
 	public void  setPdsNType(String pdsNType) {
 		this.pdsNType = pdsNType;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -444,6 +479,7 @@ public class BatchPCFPDSN {
 	 */
 	public BatchPCFPDSN withPdsNType(String pdsNType) {
 		this.pdsNType = pdsNType;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.pcfconfig.PCFPerformanceStats;
 
 	/**
@@ -51,6 +52,11 @@ public class PCFConfig {
 	@XmlElement(name = "PCFPerformanceStats")
 	public PCFPerformanceStats pcfPerformanceStats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PCFConfig() {
 	}
 
@@ -73,6 +79,7 @@ public class PCFConfig {
 	 */
 	public void  setPcfPDSNHealthMonitorInterval(Long pcfPDSNHealthMonitorInterval) {
 		this.pcfPDSNHealthMonitorInterval = pcfPDSNHealthMonitorInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +91,7 @@ public class PCFConfig {
 	 */
 	public PCFConfig withPcfPDSNHealthMonitorInterval(Long pcfPDSNHealthMonitorInterval) {
 		this.pcfPDSNHealthMonitorInterval = pcfPDSNHealthMonitorInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.pcfpdsn.A11RegUpdateStats;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.pcfpdsn.PCFPDSNStats;
 
@@ -128,6 +130,16 @@ public class PCFPDSN {
 	@XmlElement(name = "PCFPDSNStats")
 	public PCFPDSNStats pcfPDSNStats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PCFPDSN() {
 	}
 
@@ -150,6 +162,7 @@ public class PCFPDSN {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -161,6 +174,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -182,6 +196,8 @@ public class PCFPDSN {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -193,6 +209,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -214,6 +232,8 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNNumber(Integer pdsNNumber) {
 		this.pdsNNumber = pdsNNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -225,6 +245,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNNumber(Integer pdsNNumber) {
 		this.pdsNNumber = pdsNNumber;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -246,6 +268,8 @@ public class PCFPDSN {
 	 */
 	public void  setSecurityParameterIndex(Long securityParameterIndex) {
 		this.securityParameterIndex = securityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -257,6 +281,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withSecurityParameterIndex(Long securityParameterIndex) {
 		this.securityParameterIndex = securityParameterIndex;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -278,6 +304,8 @@ public class PCFPDSN {
 	 */
 	public void  setSecurityKey(byte[] securityKey) {
 		this.securityKey = securityKey;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -289,6 +317,8 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withSecurityKey(byte[] securityKey) {
 		this.securityKey = securityKey;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -310,6 +340,7 @@ public class PCFPDSN {
 	 */
 	public void  setIosVersion(String iosVersion) {
 		this.iosVersion = iosVersion;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -321,6 +352,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withIosVersion(String iosVersion) {
 		this.iosVersion = iosVersion;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -342,6 +374,7 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNadminStatus(Integer pdsNadminStatus) {
 		this.pdsNadminStatus = pdsNadminStatus;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -353,6 +386,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNadminStatus(Integer pdsNadminStatus) {
 		this.pdsNadminStatus = pdsNadminStatus;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -374,6 +408,7 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNHealthStatus(Long pdsNHealthStatus) {
 		this.pdsNHealthStatus = pdsNHealthStatus;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -385,6 +420,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNHealthStatus(Long pdsNHealthStatus) {
 		this.pdsNHealthStatus = pdsNHealthStatus;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -406,6 +442,7 @@ public class PCFPDSN {
 	 */
 	public void  setPdsNIPAddress(IPAddress pdsNIPAddress) {
 		this.pdsNIPAddress = pdsNIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -417,6 +454,7 @@ public class PCFPDSN {
 	 */
 	public PCFPDSN withPdsNIPAddress(IPAddress pdsNIPAddress) {
 		this.pdsNIPAddress = pdsNIPAddress;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
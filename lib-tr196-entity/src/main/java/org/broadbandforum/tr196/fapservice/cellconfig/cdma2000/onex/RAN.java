@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran.APIDM;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran.APIDTM;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran.APPIM;
@@ -154,6 +156,11 @@ public class RAN {
 	@XmlElement(name = "APPIM")
 	public APPIM appIM;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RAN() {
 	}
 
@@ -176,6 +183,7 @@ public class RAN {
 	 */
 	public void  setOneXSectorNID(Integer oneXSectorNID) {
 		this.oneXSectorNID = oneXSectorNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -187,6 +195,7 @@ public class RAN {
 	 */
 	public RAN withOneXSectorNID(Integer oneXSectorNID) {
 		this.oneXSectorNID = oneXSectorNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -208,6 +217,7 @@ public class RAN {
 	 */
 	public void  setOneXSectorSID(Integer oneXSectorSID) {
 		this.oneXSectorSID = oneXSectorSID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -219,6 +229,7 @@ public class RAN {
 	 */
 	public RAN withOneXSectorSID(Integer oneXSectorSID) {
 		this.oneXSectorSID = oneXSectorSID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -240,6 +251,7 @@ public class RAN {
 	 */
 	public void  setOneXPZID(Integer oneXPZID) {
 		this.oneXPZID = oneXPZID;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -251,6 +263,7 @@ public class RAN {
 	 */
 	public RAN withOneXPZID(Integer oneXPZID) {
 		this.oneXPZID = oneXPZID;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -272,6 +285,7 @@ public class RAN {
 	 */
 	public void  setBaseID(Integer baseID) {
 		this.baseID = baseID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -283,6 +297,7 @@ public class RAN {
 	 */
 	public RAN withBaseID(Integer baseID) {
 		this.baseID = baseID;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -304,6 +319,7 @@ public class RAN {
 	 */
 	public void  setMaxNeighborListEntries(Long maxNeighborListEntries) {
 		this.maxNeighborListEntries = maxNeighborListEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -315,6 +331,7 @@ public class RAN {
 	 */
 	public RAN withMaxNeighborListEntries(Long maxNeighborListEntries) {
 		this.maxNeighborListEntries = maxNeighborListEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -556,10 +573,20 @@ public class RAN {
 	 * @return the value
 	 */
 	public Collection<NeighborList> getNeighborLists() {
-		if (this.neighborLists == null){ this.neighborLists=new ArrayList<>();}
+		if (!(this.neighborLists instanceof InstanceTable)){ this.neighborLists=InstanceTable.of(this.neighborLists);}
 		return neighborLists;
 	}
 
+	/**
+	 * Read the this object contains information common to all neighbors of a sector. This object has only one instance.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<NeighborList> viewNeighborLists() {
+		return neighborLists == null ? Collections.emptyList() : neighborLists;
+	}
+
 	/**
 	 * Set the this object contains information common to all neighbors of a sector. This object has only one instance.
 	 *
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * CDMA2000 1x service redirection parameters.
@@ -54,6 +55,11 @@ public class Redirect {
 	@Size(min = 0, max = 31)
 	public Long redirectBandClass;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Redirect() {
 	}
 
@@ -76,6 +82,7 @@ public class Redirect {
 	 */
 	public void  setRedirectChannelNumber(Long redirectChannelNumber) {
 		this.redirectChannelNumber = redirectChannelNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +94,7 @@ public class Redirect {
 	 */
 	public Redirect withRedirectChannelNumber(Long redirectChannelNumber) {
 		this.redirectChannelNumber = redirectChannelNumber;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -108,6 +116,7 @@ public class Redirect {
 	 */
 	public void  setRedirectBandClass(Long redirectBandClass) {
 		this.redirectBandClass = redirectBandClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -119,6 +128,7 @@ public class Redirect {
 	 */
 	public Redirect withRedirectBandClass(Long redirectBandClass) {
 		this.redirectBandClass = redirectBandClass;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains 1x FAP statistics aggregated over all connections of all users over all sectors.
@@ -252,6 +253,11 @@ public class Stats {
 	@Size(min = 0, max = -1)
 	public Long bcindexOneToZeroTransitions;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -274,6 +280,7 @@ public class Stats {
 	 */
 	public void  setRegistrationAttempts(Long registrationAttempts) {
 		this.registrationAttempts = registrationAttempts;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -285,6 +292,7 @@ public class Stats {
 	 */
 	public Stats withRegistrationAttempts(Long registrationAttempts) {
 		this.registrationAttempts = registrationAttempts;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -306,6 +314,7 @@ public class Stats {
 	 */
 	public void  setRegistrationFails(Long registrationFails) {
 		this.registrationFails = registrationFails;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -317,6 +326,7 @@ public class Stats {
 	 */
 	public Stats withRegistrationFails(Long registrationFails) {
 		this.registrationFails = registrationFails;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -338,6 +348,7 @@ public class Stats {
 	 */
 	public void  setRegistrationsBlocked(Long registrationsBlocked) {
 		this.registrationsBlocked = registrationsBlocked;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -349,6 +360,7 @@ public class Stats {
 	 */
 	public Stats withRegistrationsBlocked(Long registrationsBlocked) {
 		this.registrationsBlocked = registrationsBlocked;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -370,6 +382,7 @@ public class Stats {
 	 */
 	public void  setPageAttempts(Long pageAttempts) {
 		this.pageAttempts = pageAttempts;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -381,6 +394,7 @@ public class Stats {
 	 */
 	public Stats withPageAttempts(Long pageAttempts) {
 		this.pageAttempts = pageAttempts;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -402,6 +416,7 @@ public class Stats {
 	 */
 	public void  setPageFails(Long pageFails) {
 		this.pageFails = pageFails;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -413,6 +428,7 @@ public class Stats {
 	 */
 	public Stats withPageFails(Long pageFails) {
 		this.pageFails = pageFails;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -434,6 +450,7 @@ public class Stats {
 	 */
 	public void  setVoiceCallAttempts(Long voiceCallAttempts) {
 		this.voiceCallAttempts = voiceCallAttempts;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -445,6 +462,7 @@ public class Stats {
 	 */
 	public Stats withVoiceCallAttempts(Long voiceCallAttempts) {
 		this.voiceCallAttempts = voiceCallAttempts;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -466,6 +484,7 @@ public class Stats {
 	 */
 	public void  setVoiceCallFailures(Long voiceCallFailures) {
 		this.voiceCallFailures = voiceCallFailures;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -477,6 +496,7 @@ public class Stats {
 	 */
 	public Stats withVoiceCallFailures(Long voiceCallFailures) {
 		this.voiceCallFailures = voiceCallFailures;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -498,6 +518,7 @@ public class Stats {
 	 */
 	public void  setVoiceCallsBlocked(Long voiceCallsBlocked) {
 		this.voiceCallsBlocked = voiceCallsBlocked;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -509,6 +530,7 @@ public class Stats {
 	 */
 	public Stats withVoiceCallsBlocked(Long voiceCallsBlocked) {
 		this.voiceCallsBlocked = voiceCallsBlocked;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -530,6 +552,7 @@ public class Stats {
 	 */
 	public void  setVoiceCallsDropped(Long voiceCallsDropped) {
 		this.voiceCallsDropped = voiceCallsDropped;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -541,6 +564,7 @@ public class Stats {
 	 */
 	public Stats withVoiceCallsDropped(Long voiceCallsDropped) {
 		this.voiceCallsDropped = voiceCallsDropped;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -562,6 +586,7 @@ public class Stats {
 	 */
 	public void  setDataCallAttempts(Long dataCallAttempts) {
 		this.dataCallAttempts = dataCallAttempts;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -573,6 +598,7 @@ public class Stats {
 	 */
 	public Stats withDataCallAttempts(Long dataCallAttempts) {
 		this.dataCallAttempts = dataCallAttempts;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -594,6 +620,7 @@ public class Stats {
 	 */
 	public void  setDataCallFailures(Long dataCallFailures) {
 		this.dataCallFailures = dataCallFailures;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -605,6 +632,7 @@ public class Stats {
 	 */
 	public Stats withDataCallFailures(Long dataCallFailures) {
 		this.dataCallFailures = dataCallFailures;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -626,6 +654,7 @@ public class Stats {
 	 */
 	public void  setDataCallsBlocked(Long dataCallsBlocked) {
 		this.dataCallsBlocked = dataCallsBlocked;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -637,6 +666,7 @@ public class Stats {
 	 */
 	public Stats withDataCallsBlocked(Long dataCallsBlocked) {
 		this.dataCallsBlocked = dataCallsBlocked;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -658,6 +688,7 @@ public class Stats {
 	 */
 	public void  setDataCallsDropped(Long dataCallsDropped) {
 		this.dataCallsDropped = dataCallsDropped;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -669,6 +700,7 @@ public class Stats {
 	 */
 	public Stats withDataCallsDropped(Long dataCallsDropped) {
 		this.dataCallsDropped = dataCallsDropped;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -690,6 +722,7 @@ public class Stats {
 	 */
 	public void  setAverageVoiceCall(Long averageVoiceCall) {
 		this.averageVoiceCall = averageVoiceCall;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -701,6 +734,7 @@ public class Stats {
 	 */
 	public Stats withAverageVoiceCall(Long averageVoiceCall) {
 		this.averageVoiceCall = averageVoiceCall;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -722,6 +756,7 @@ public class Stats {
 	 */
 	public void  setAverageDataCall(Long averageDataCall) {
 		this.averageDataCall = averageDataCall;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -733,6 +768,7 @@ public class Stats {
 	 */
 	public Stats withAverageDataCall(Long averageDataCall) {
 		this.averageDataCall = averageDataCall;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -754,6 +790,7 @@ public class Stats {
 	 */
 	public void  setAverageSessionInSec(Long averageSessionInSec) {
 		this.averageSessionInSec = averageSessionInSec;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -765,6 +802,7 @@ public class Stats {
 	 */
 	public Stats withAverageSessionInSec(Long averageSessionInSec) {
 		this.averageSessionInSec = averageSessionInSec;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -786,6 +824,7 @@ public class Stats {
 	 */
 	public void  setTotalVoiceCalls(Long totalVoiceCalls) {
 		this.totalVoiceCalls = totalVoiceCalls;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -797,6 +836,7 @@ public class Stats {
 	 */
 	public Stats withTotalVoiceCalls(Long totalVoiceCalls) {
 		this.totalVoiceCalls = totalVoiceCalls;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -818,6 +858,7 @@ public class Stats {
 	 */
 	public void  setTotalDataCalls(Long totalDataCalls) {
 		this.totalDataCalls = totalDataCalls;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -829,6 +870,7 @@ public class Stats {
 	 */
 	public Stats withTotalDataCalls(Long totalDataCalls) {
 		this.totalDataCalls = totalDataCalls;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -850,6 +892,7 @@ public class Stats {
 	 */
 	public void  setFwdVoicePacketDropPercentage(Long fwdVoicePacketDropPercentage) {
 		this.fwdVoicePacketDropPercentage = fwdVoicePacketDropPercentage;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -861,6 +904,7 @@ public class Stats {
 	 */
 	public Stats withFwdVoicePacketDropPercentage(Long fwdVoicePacketDropPercentage) {
 		this.fwdVoicePacketDropPercentage = fwdVoicePacketDropPercentage;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -882,6 +926,7 @@ public class Stats {
 	 */
 	public void  setRevVoicePacketDropPercentage(Long revVoicePacketDropPercentage) {
 		this.revVoicePacketDropPercentage = revVoicePacketDropPercentage;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -893,6 +938,7 @@ public class Stats {
 	 */
 	public Stats withRevVoicePacketDropPercentage(Long revVoicePacketDropPercentage) {
 		this.revVoicePacketDropPercentage = revVoicePacketDropPercentage;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -914,6 +960,7 @@ public class Stats {
 	 */
 	public void  setFwdAvgDataRate(Long fwdAvgDataRate) {
 		this.fwdAvgDataRate = fwdAvgDataRate;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -925,6 +972,7 @@ public class Stats {
 	 */
 	public Stats withFwdAvgDataRate(Long fwdAvgDataRate) {
 		this.fwdAvgDataRate = fwdAvgDataRate;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -946,6 +994,7 @@ public class Stats {
 	 */
 	public void  setRevAvgDataRate(Long revAvgDataRate) {
 		this.revAvgDataRate = revAvgDataRate;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -957,6 +1006,7 @@ public class Stats {
 	 */
 	public Stats withRevAvgDataRate(Long revAvgDataRate) {
 		this.revAvgDataRate = revAvgDataRate;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -978,6 +1028,7 @@ public class Stats {
 	 */
 	public void  setBcindexZeroToOneTransitions(Long bcindexZeroToOneTransitions) {
 		this.bcindexZeroToOneTransitions = bcindexZeroToOneTransitions;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -989,6 +1040,7 @@ public class Stats {
 	 */
 	public Stats withBcindexZeroToOneTransitions(Long bcindexZeroToOneTransitions) {
 		this.bcindexZeroToOneTransitions = bcindexZeroToOneTransitions;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1010,6 +1062,7 @@ public class Stats {
 	 */
 	public void  setBcindexOneToZeroTransitions(Long bcindexOneToZeroTransitions) {
 		this.bcindexOneToZeroTransitions = bcindexOneToZeroTransitions;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1021,6 +1074,7 @@ public class Stats {
 	 */
 	public Stats withBcindexOneToZeroTransitions(Long bcindexOneToZeroTransitions) {
 		this.bcindexOneToZeroTransitions = bcindexOneToZeroTransitions;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
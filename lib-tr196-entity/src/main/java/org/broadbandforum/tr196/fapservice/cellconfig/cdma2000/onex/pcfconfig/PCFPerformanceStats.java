@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is used in obtaining the PCF stats
@@ -163,6 +164,11 @@ public class PCFPerformanceStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long totalA10DroppedPages;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PCFPerformanceStats() {
 	}
 
@@ -185,6 +191,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureNoReason(Long a10SetupFailureNoReason) {
 		this.a10SetupFailureNoReason = a10SetupFailureNoReason;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -196,6 +203,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureNoReason(Long a10SetupFailureNoReason) {
 		this.a10SetupFailureNoReason = a10SetupFailureNoReason;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -217,6 +225,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureAdminProhibit(Long a10SetupFailureAdminProhibit) {
 		this.a10SetupFailureAdminProhibit = a10SetupFailureAdminProhibit;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -228,6 +237,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureAdminProhibit(Long a10SetupFailureAdminProhibit) {
 		this.a10SetupFailureAdminProhibit = a10SetupFailureAdminProhibit;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -249,6 +259,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureInsuffResources(Long a10SetupFailureInsuffResources) {
 		this.a10SetupFailureInsuffResources = a10SetupFailureInsuffResources;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -260,6 +271,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureInsuffResources(Long a10SetupFailureInsuffResources) {
 		this.a10SetupFailureInsuffResources = a10SetupFailureInsuffResources;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -281,6 +293,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureFailedAuth(Long a10SetupFailureFailedAuth) {
 		this.a10SetupFailureFailedAuth = a10SetupFailureFailedAuth;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -292,6 +305,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureFailedAuth(Long a10SetupFailureFailedAuth) {
 		this.a10SetupFailureFailedAuth = a10SetupFailureFailedAuth;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -313,6 +327,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureIdMismatch(Long a10SetupFailureIdMismatch) {
 		this.a10SetupFailureIdMismatch = a10SetupFailureIdMismatch;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -324,6 +339,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureIdMismatch(Long a10SetupFailureIdMismatch) {
 		this.a10SetupFailureIdMismatch = a10SetupFailureIdMismatch;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -345,6 +361,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureMalformedReq(Long a10SetupFailureMalformedReq) {
 		this.a10SetupFailureMalformedReq = a10SetupFailureMalformedReq;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -356,6 +373,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureMalformedReq(Long a10SetupFailureMalformedReq) {
 		this.a10SetupFailureMalformedReq = a10SetupFailureMalformedReq;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -377,6 +395,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureUnknownPDSN(Long a10SetupFailureUnknownPDSN) {
 		this.a10SetupFailureUnknownPDSN = a10SetupFailureUnknownPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -388,6 +407,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureUnknownPDSN(Long a10SetupFailureUnknownPDSN) {
 		this.a10SetupFailureUnknownPDSN = a10SetupFailureUnknownPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -409,6 +429,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10SetupFailureUnsuppVendId(Long a10SetupFailureUnsuppVendId) {
 		this.a10SetupFailureUnsuppVendId = a10SetupFailureUnsuppVendId;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -420,6 +441,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10SetupFailureUnsuppVendId(Long a10SetupFailureUnsuppVendId) {
 		this.a10SetupFailureUnsuppVendId = a10SetupFailureUnsuppVendId;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -441,6 +463,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setTotalA10ClosedByRnc(Long totalA10ClosedByRnc) {
 		this.totalA10ClosedByRnc = totalA10ClosedByRnc;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -452,6 +475,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withTotalA10ClosedByRnc(Long totalA10ClosedByRnc) {
 		this.totalA10ClosedByRnc = totalA10ClosedByRnc;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -473,6 +497,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setTotalA10ClosedByPDSN(Long totalA10ClosedByPDSN) {
 		this.totalA10ClosedByPDSN = totalA10ClosedByPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -484,6 +509,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withTotalA10ClosedByPDSN(Long totalA10ClosedByPDSN) {
 		this.totalA10ClosedByPDSN = totalA10ClosedByPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -505,6 +531,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setTotalA10SuccessPages(Long totalA10SuccessPages) {
 		this.totalA10SuccessPages = totalA10SuccessPages;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -516,6 +543,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withTotalA10SuccessPages(Long totalA10SuccessPages) {
 		this.totalA10SuccessPages = totalA10SuccessPages;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -537,6 +565,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setTotalA10FailedPages(Long totalA10FailedPages) {
 		this.totalA10FailedPages = totalA10FailedPages;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -548,6 +577,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withTotalA10FailedPages(Long totalA10FailedPages) {
 		this.totalA10FailedPages = totalA10FailedPages;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -569,6 +599,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setTotalA10IngressBytes(Long totalA10IngressBytes) {
 		this.totalA10IngressBytes = totalA10IngressBytes;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -580,6 +611,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withTotalA10IngressBytes(Long totalA10IngressBytes) {
 		this.totalA10IngressBytes = totalA10IngressBytes;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -601,6 +633,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setTotalA10EgressBytes(Long totalA10EgressBytes) {
 		this.totalA10EgressBytes = totalA10EgressBytes;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -612,6 +645,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withTotalA10EgressBytes(Long totalA10EgressBytes) {
 		this.totalA10EgressBytes = totalA10EgressBytes;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -633,6 +667,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setA10RegUpdateReceived(Long a10RegUpdateReceived) {
 		this.a10RegUpdateReceived = a10RegUpdateReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -644,6 +679,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withA10RegUpdateReceived(Long a10RegUpdateReceived) {
 		this.a10RegUpdateReceived = a10RegUpdateReceived;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -665,6 +701,7 @@ public class PCFPerformanceStats {
 	 */
 	public void  setTotalA10DroppedPages(Long totalA10DroppedPages) {
 		this.totalA10DroppedPages = totalA10DroppedPages;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -676,6 +713,7 @@ public class PCFPerformanceStats {
 	 */
 	public PCFPerformanceStats withTotalA10DroppedPages(Long totalA10DroppedPages) {
 		this.totalA10DroppedPages = totalA10DroppedPages;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
 
 	/**
@@ -190,6 +191,11 @@ public class PCFPDSNStats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public IPAddress pdsNipAddressPDSNPerf;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PCFPDSNStats() {
 	}
 
@@ -212,6 +218,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10SetupAttemptsPDSN(Long a10SetupAttemptsPDSN) {
 		this.a10SetupAttemptsPDSN = a10SetupAttemptsPDSN;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -223,6 +230,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10SetupAttemptsPDSN(Long a10SetupAttemptsPDSN) {
 		this.a10SetupAttemptsPDSN = a10SetupAttemptsPDSN;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -244,6 +252,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10SetupSuccessesPDSN(Long a10SetupSuccessesPDSN) {
 		this.a10SetupSuccessesPDSN = a10SetupSuccessesPDSN;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -255,6 +264,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10SetupSuccessesPDSN(Long a10SetupSuccessesPDSN) {
 		this.a10SetupSuccessesPDSN = a10SetupSuccessesPDSN;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -276,6 +286,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10SetupBlocksPDSN(Long a10SetupBlocksPDSN) {
 		this.a10SetupBlocksPDSN = a10SetupBlocksPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -287,6 +298,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10SetupBlocksPDSN(Long a10SetupBlocksPDSN) {
 		this.a10SetupBlocksPDSN = a10SetupBlocksPDSN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -308,6 +320,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedIdMismatchPDSN(Long a11RegReqDeniedIdMismatchPDSN) {
 		this.a11RegReqDeniedIdMismatchPDSN = a11RegReqDeniedIdMismatchPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -319,6 +332,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedIdMismatchPDSN(Long a11RegReqDeniedIdMismatchPDSN) {
 		this.a11RegReqDeniedIdMismatchPDSN = a11RegReqDeniedIdMismatchPDSN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -340,6 +354,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedUnknownPDSNPDSN(Long a11RegReqDeniedUnknownPDSNPDSN) {
 		this.a11RegReqDeniedUnknownPDSNPDSN = a11RegReqDeniedUnknownPDSNPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -351,6 +366,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedUnknownPDSNPDSN(Long a11RegReqDeniedUnknownPDSNPDSN) {
 		this.a11RegReqDeniedUnknownPDSNPDSN = a11RegReqDeniedUnknownPDSNPDSN;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -372,6 +388,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedNoReasonPDSN(Long a11RegReqDeniedNoReasonPDSN) {
 		this.a11RegReqDeniedNoReasonPDSN = a11RegReqDeniedNoReasonPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -383,6 +400,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedNoReasonPDSN(Long a11RegReqDeniedNoReasonPDSN) {
 		this.a11RegReqDeniedNoReasonPDSN = a11RegReqDeniedNoReasonPDSN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -404,6 +422,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedAdminProhibitPDSN(Long a11RegReqDeniedAdminProhibitPDSN) {
 		this.a11RegReqDeniedAdminProhibitPDSN = a11RegReqDeniedAdminProhibitPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -415,6 +434,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedAdminProhibitPDSN(Long a11RegReqDeniedAdminProhibitPDSN) {
 		this.a11RegReqDeniedAdminProhibitPDSN = a11RegReqDeniedAdminProhibitPDSN;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -436,6 +456,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedInsuffResourcesPDSN(Long a11RegReqDeniedInsuffResourcesPDSN) {
 		this.a11RegReqDeniedInsuffResourcesPDSN = a11RegReqDeniedInsuffResourcesPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -447,6 +468,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedInsuffResourcesPDSN(Long a11RegReqDeniedInsuffResourcesPDSN) {
 		this.a11RegReqDeniedInsuffResourcesPDSN = a11RegReqDeniedInsuffResourcesPDSN;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -468,6 +490,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedFailedAuthPDSN(Long a11RegReqDeniedFailedAuthPDSN) {
 		this.a11RegReqDeniedFailedAuthPDSN = a11RegReqDeniedFailedAuthPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -479,6 +502,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedFailedAuthPDSN(Long a11RegReqDeniedFailedAuthPDSN) {
 		this.a11RegReqDeniedFailedAuthPDSN = a11RegReqDeniedFailedAuthPDSN;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -500,6 +524,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedMalformedReqPDSN(Long a11RegReqDeniedMalformedReqPDSN) {
 		this.a11RegReqDeniedMalformedReqPDSN = a11RegReqDeniedMalformedReqPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -511,6 +536,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedMalformedReqPDSN(Long a11RegReqDeniedMalformedReqPDSN) {
 		this.a11RegReqDeniedMalformedReqPDSN = a11RegReqDeniedMalformedReqPDSN;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -532,6 +558,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedUnsuppVendIdPDSN(Long a11RegReqDeniedUnsuppVendIdPDSN) {
 		this.a11RegReqDeniedUnsuppVendIdPDSN = a11RegReqDeniedUnsuppVendIdPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -543,6 +570,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedUnsuppVendIdPDSN(Long a11RegReqDeniedUnsuppVendIdPDSN) {
 		this.a11RegReqDeniedUnsuppVendIdPDSN = a11RegReqDeniedUnsuppVendIdPDSN;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -564,6 +592,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedReverseTunnelUnavailablePDSN(Long a11RegReqDeniedReverseTunnelUnavailablePDSN) {
 		this.a11RegReqDeniedReverseTunnelUnavailablePDSN = a11RegReqDeniedReverseTunnelUnavailablePDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -575,6 +604,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedReverseTunnelUnavailablePDSN(Long a11RegReqDeniedReverseTunnelUnavailablePDSN) {
 		this.a11RegReqDeniedReverseTunnelUnavailablePDSN = a11RegReqDeniedReverseTunnelUnavailablePDSN;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -596,6 +626,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedReverseTunnelTbitNotSetPDSN(Long a11RegReqDeniedReverseTunnelTbitNotSetPDSN) {
 		this.a11RegReqDeniedReverseTunnelTbitNotSetPDSN = a11RegReqDeniedReverseTunnelTbitNotSetPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -607,6 +638,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedReverseTunnelTbitNotSetPDSN(Long a11RegReqDeniedReverseTunnelTbitNotSetPDSN) {
 		this.a11RegReqDeniedReverseTunnelTbitNotSetPDSN = a11RegReqDeniedReverseTunnelTbitNotSetPDSN;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -628,6 +660,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA11RegReqDeniedUnknownErrorCodePDSN(Long a11RegReqDeniedUnknownErrorCodePDSN) {
 		this.a11RegReqDeniedUnknownErrorCodePDSN = a11RegReqDeniedUnknownErrorCodePDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -639,6 +672,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA11RegReqDeniedUnknownErrorCodePDSN(Long a11RegReqDeniedUnknownErrorCodePDSN) {
 		this.a11RegReqDeniedUnknownErrorCodePDSN = a11RegReqDeniedUnknownErrorCodePDSN;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -660,6 +694,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10RegReqForRegistrationRetransmissionsPDSN(Long a10RegReqForRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForRegistrationRetransmissionsPDSN = a10RegReqForRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -671,6 +706,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10RegReqForRegistrationRetransmissionsPDSN(Long a10RegReqForRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForRegistrationRetransmissionsPDSN = a10RegReqForRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -692,6 +728,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10RegReqForReRegistrationRetransmissionsPDSN(Long a10RegReqForReRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForReRegistrationRetransmissionsPDSN = a10RegReqForReRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -703,6 +740,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10RegReqForReRegistrationRetransmissionsPDSN(Long a10RegReqForReRegistrationRetransmissionsPDSN) {
 		this.a10RegReqForReRegistrationRetransmissionsPDSN = a10RegReqForReRegistrationRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -724,6 +762,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setA10RegReqForReleaseRetransmissionsPDSN(Long a10RegReqForReleaseRetransmissionsPDSN) {
 		this.a10RegReqForReleaseRetransmissionsPDSN = a10RegReqForReleaseRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -735,6 +774,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withA10RegReqForReleaseRetransmissionsPDSN(Long a10RegReqForReleaseRetransmissionsPDSN) {
 		this.a10RegReqForReleaseRetransmissionsPDSN = a10RegReqForReleaseRetransmissionsPDSN;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -756,6 +796,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setPdsNNumberPDSNPerf(Integer pdsNNumberPDSNPerf) {
 		this.pdsNNumberPDSNPerf = pdsNNumberPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -767,6 +808,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withPdsNNumberPDSNPerf(Integer pdsNNumberPDSNPerf) {
 		this.pdsNNumberPDSNPerf = pdsNNumberPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -788,6 +830,7 @@ public class PCFPDSNStats {
 	 */
 	public void  setPdsNipAddressPDSNPerf(IPAddress pdsNipAddressPDSNPerf) {
 		this.pdsNipAddressPDSNPerf = pdsNipAddressPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -799,6 +842,7 @@ public class PCFPDSNStats {
 	 */
 	public PCFPDSNStats withPdsNipAddressPDSNPerf(IPAddress pdsNipAddressPDSNPerf) {
 		this.pdsNipAddressPDSNPerf = pdsNipAddressPDSNPerf;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
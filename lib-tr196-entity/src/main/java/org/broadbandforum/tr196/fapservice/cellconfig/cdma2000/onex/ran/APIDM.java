@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object can be configured only if {{param|.Capabilities.CDMA2000.OneX.FemtoOverheadMessagesCapable}} is set to {{true}}.
@@ -174,6 +175,11 @@ public class APIDM {
 	@Size(min = 0, max = 31)
 	public Long intERFREQSRCHTH;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public APIDM() {
 	}
 
@@ -196,6 +202,7 @@ public class APIDM {
 	 */
 	public void  setAssociationType(Long associationType) {
 		this.associationType = associationType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -207,6 +214,7 @@ public class APIDM {
 	 */
 	public APIDM withAssociationType(Long associationType) {
 		this.associationType = associationType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -228,6 +236,7 @@ public class APIDM {
 	 */
 	public void  setApiDLEN(Long apiDLEN) {
 		this.apiDLEN = apiDLEN;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -239,6 +248,7 @@ public class APIDM {
 	 */
 	public APIDM withApiDLEN(Long apiDLEN) {
 		this.apiDLEN = apiDLEN;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +270,7 @@ public class APIDM {
 	 */
 	public void  setApiD(byte[] apiD) {
 		this.apiD = apiD;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -271,6 +282,7 @@ public class APIDM {
 	 */
 	public APIDM withApiD(byte[] apiD) {
 		this.apiD = apiD;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -292,6 +304,7 @@ public class APIDM {
 	 */
 	public void  setApiDMASK(Long apiDMASK) {
 		this.apiDMASK = apiDMASK;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -303,6 +316,7 @@ public class APIDM {
 	 */
 	public APIDM withApiDMASK(Long apiDMASK) {
 		this.apiDMASK = apiDMASK;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -324,6 +338,7 @@ public class APIDM {
 	 */
 	public void  setIosMSCID(Long iosMSCID) {
 		this.iosMSCID = iosMSCID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -335,6 +350,7 @@ public class APIDM {
 	 */
 	public APIDM withIosMSCID(Long iosMSCID) {
 		this.iosMSCID = iosMSCID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -356,6 +372,7 @@ public class APIDM {
 	 */
 	public void  setIosCELLID(Long iosCELLID) {
 		this.iosCELLID = iosCELLID;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -367,6 +384,7 @@ public class APIDM {
 	 */
 	public APIDM withIosCELLID(Long iosCELLID) {
 		this.iosCELLID = iosCELLID;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -388,6 +406,7 @@ public class APIDM {
 	 */
 	public void  setIntRAFREQHOHYSINCL(Boolean intRAFREQHOHYSINCL) {
 		this.intRAFREQHOHYSINCL = intRAFREQHOHYSINCL;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -399,6 +418,7 @@ public class APIDM {
 	 */
 	public APIDM withIntRAFREQHOHYSINCL(Boolean intRAFREQHOHYSINCL) {
 		this.intRAFREQHOHYSINCL = intRAFREQHOHYSINCL;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -420,6 +440,7 @@ public class APIDM {
 	 */
 	public void  setIntRAFREQHOHYS(Long intRAFREQHOHYS) {
 		this.intRAFREQHOHYS = intRAFREQHOHYS;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -431,6 +452,7 @@ public class APIDM {
 	 */
 	public APIDM withIntRAFREQHOHYS(Long intRAFREQHOHYS) {
 		this.intRAFREQHOHYS = intRAFREQHOHYS;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -452,6 +474,7 @@ public class APIDM {
 	 */
 	public void  setIntRAFREQHOSLOPEINCL(Boolean intRAFREQHOSLOPEINCL) {
 		this.intRAFREQHOSLOPEINCL = intRAFREQHOSLOPEINCL;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -463,6 +486,7 @@ public class APIDM {
 	 */
 	public APIDM withIntRAFREQHOSLOPEINCL(Boolean intRAFREQHOSLOPEINCL) {
 		this.intRAFREQHOSLOPEINCL = intRAFREQHOSLOPEINCL;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -484,6 +508,7 @@ public class APIDM {
 	 */
 	public void  setIntRAFREQHOSLOPE(Long intRAFREQHOSLOPE) {
 		this.intRAFREQHOSLOPE = intRAFREQHOSLOPE;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -495,6 +520,7 @@ public class APIDM {
 	 */
 	public APIDM withIntRAFREQHOSLOPE(Long intRAFREQHOSLOPE) {
 		this.intRAFREQHOSLOPE = intRAFREQHOSLOPE;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -516,6 +542,7 @@ public class APIDM {
 	 */
 	public void  setIntERFREQHOHYSINCL(Boolean intERFREQHOHYSINCL) {
 		this.intERFREQHOHYSINCL = intERFREQHOHYSINCL;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -527,6 +554,7 @@ public class APIDM {
 	 */
 	public APIDM withIntERFREQHOHYSINCL(Boolean intERFREQHOHYSINCL) {
 		this.intERFREQHOHYSINCL = intERFREQHOHYSINCL;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -548,6 +576,7 @@ public class APIDM {
 	 */
 	public void  setIntERFREQHOHYS(Long intERFREQHOHYS) {
 		this.intERFREQHOHYS = intERFREQHOHYS;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -559,6 +588,7 @@ public class APIDM {
 	 */
 	public APIDM withIntERFREQHOHYS(Long intERFREQHOHYS) {
 		this.intERFREQHOHYS = intERFREQHOHYS;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -580,6 +610,7 @@ public class APIDM {
 	 */
 	public void  setIntERFREQHOSLOPEINCL(Boolean intERFREQHOSLOPEINCL) {
 		this.intERFREQHOSLOPEINCL = intERFREQHOSLOPEINCL;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -591,6 +622,7 @@ public class APIDM {
 	 */
 	public APIDM withIntERFREQHOSLOPEINCL(Boolean intERFREQHOSLOPEINCL) {
 		this.intERFREQHOSLOPEINCL = intERFREQHOSLOPEINCL;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -612,6 +644,7 @@ public class APIDM {
 	 */
 	public void  setIntERFREQHOSLOPE(Long intERFREQHOSLOPE) {
 		this.intERFREQHOSLOPE = intERFREQHOSLOPE;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -623,6 +656,7 @@ public class APIDM {
 	 */
 	public APIDM withIntERFREQHOSLOPE(Long intERFREQHOSLOPE) {
 		this.intERFREQHOSLOPE = intERFREQHOSLOPE;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -644,6 +678,7 @@ public class APIDM {
 	 */
 	public void  setIntERFREQSRCHTHINCL(Boolean intERFREQSRCHTHINCL) {
 		this.intERFREQSRCHTHINCL = intERFREQSRCHTHINCL;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -655,6 +690,7 @@ public class APIDM {
 	 */
 	public APIDM withIntERFREQSRCHTHINCL(Boolean intERFREQSRCHTHINCL) {
 		this.intERFREQSRCHTHINCL = intERFREQSRCHTHINCL;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -676,6 +712,7 @@ public class APIDM {
 	 */
 	public void  setIntERFREQSRCHTH(Long intERFREQSRCHTH) {
 		this.intERFREQSRCHTH = intERFREQSRCHTH;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -687,6 +724,7 @@ public class APIDM {
 	 */
 	public APIDM withIntERFREQSRCHTH(Long intERFREQSRCHTH) {
 		this.intERFREQSRCHTH = intERFREQSRCHTH;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object can be configured only if {{param|.Capabilities.CDMA2000.OneX.FemtoOverheadMessagesCapable}} is set to {{true}}.
@@ -63,6 +64,11 @@ public class APIDTM {
 	@Size(max = 256)
 	public String apiDTEXTCHARi;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public APIDTM() {
 	}
 
@@ -85,6 +91,7 @@ public class APIDTM {
 	 */
 	public void  setApiDTEXTCHARiLEN(Long apiDTEXTCHARiLEN) {
 		this.apiDTEXTCHARiLEN = apiDTEXTCHARiLEN;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -96,6 +103,7 @@ public class APIDTM {
 	 */
 	public APIDTM withApiDTEXTCHARiLEN(Long apiDTEXTCHARiLEN) {
 		this.apiDTEXTCHARiLEN = apiDTEXTCHARiLEN;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -117,6 +125,7 @@ public class APIDTM {
 	 */
 	public void  setApiDTEXTMSGENCODING(Long apiDTEXTMSGENCODING) {
 		this.apiDTEXTMSGENCODING = apiDTEXTMSGENCODING;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -128,6 +137,7 @@ public class APIDTM {
 	 */
 	public APIDTM withApiDTEXTMSGENCODING(Long apiDTEXTMSGENCODING) {
 		this.apiDTEXTMSGENCODING = apiDTEXTMSGENCODING;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -149,6 +159,7 @@ public class APIDTM {
 	 */
 	public void  setApiDTEXTCHARi(String apiDTEXTCHARi) {
 		this.apiDTEXTCHARi = apiDTEXTCHARi;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -160,6 +171,7 @@ public class APIDTM {
 	 */
 	public APIDTM withApiDTEXTCHARi(String apiDTEXTCHARi) {
 		this.apiDTEXTCHARi = apiDTEXTCHARi;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
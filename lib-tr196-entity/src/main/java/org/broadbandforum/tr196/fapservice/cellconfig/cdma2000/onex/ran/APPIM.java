@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran.appim.APPIREC;
 
 	/**
@@ -65,6 +67,11 @@ public class APPIM {
 	@CWMPParameter(access = "readWrite")
 	public Collection<APPIREC> appIRECs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public APPIM() {
 	}
 
@@ -87,6 +94,7 @@ public class APPIM {
 	 */
 	public void  setLifETIME(Long lifETIME) {
 		this.lifETIME = lifETIME;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -98,6 +106,7 @@ public class APPIM {
 	 */
 	public APPIM withLifETIME(Long lifETIME) {
 		this.lifETIME = lifETIME;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -119,6 +128,7 @@ public class APPIM {
 	 */
 	public void  setNumAPPIREC(Long numAPPIREC) {
 		this.numAPPIREC = numAPPIREC;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -130,6 +140,7 @@ public class APPIM {
 	 */
 	public APPIM withNumAPPIREC(Long numAPPIREC) {
 		this.numAPPIREC = numAPPIREC;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -139,10 +150,20 @@ public class APPIM {
 	 * @return the value
 	 */
 	public Collection<APPIREC> getAppIRECs() {
-		if (this.appIRECs == null){ this.appIRECs=new ArrayList<>();}
+		if (!(this.appIRECs instanceof InstanceTable)){ this.appIRECs=InstanceTable.of(this.appIRECs);}
 		return appIRECs;
 	}
 
+	/**
+	 * Read the this object can be configured only if {{param|.Capabilities.CDMA2000.OneX.FemtoOverheadMessagesCapable}} is set to {{true}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<APPIREC> viewAppIRECs() {
+		return appIRECs == null ? Collections.emptyList() : appIRECs;
+	}
+
 	/**
 	 * Set the this object can be configured only if {{param|.Capabilities.CDMA2000.OneX.FemtoOverheadMessagesCapable}} is set to {{true}}.
 	 *
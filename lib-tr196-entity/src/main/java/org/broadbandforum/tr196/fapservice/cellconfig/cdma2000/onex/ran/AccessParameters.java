@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The object used for configuring access parameter messages for 1x. See {{bibref|3GPP2-C.S0005}}.
@@ -270,6 +271,11 @@ public class AccessParameters {
 	@Size(min = 0, max = 15)
 	public Long maxRspSeq;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AccessParameters() {
 	}
 
@@ -292,6 +298,7 @@ public class AccessParameters {
 	 */
 	public void  setNomPwr(Integer nomPwr) {
 		this.nomPwr = nomPwr;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -303,6 +310,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withNomPwr(Integer nomPwr) {
 		this.nomPwr = nomPwr;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -324,6 +332,7 @@ public class AccessParameters {
 	 */
 	public void  setInitPwr(Integer initPwr) {
 		this.initPwr = initPwr;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -335,6 +344,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withInitPwr(Integer initPwr) {
 		this.initPwr = initPwr;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -356,6 +366,7 @@ public class AccessParameters {
 	 */
 	public void  setPwrStepIndb(Long pwrStepIndb) {
 		this.pwrStepIndb = pwrStepIndb;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -367,6 +378,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPwrStepIndb(Long pwrStepIndb) {
 		this.pwrStepIndb = pwrStepIndb;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -388,6 +400,7 @@ public class AccessParameters {
 	 */
 	public void  setNomPwrExt(Long nomPwrExt) {
 		this.nomPwrExt = nomPwrExt;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -399,6 +412,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withNomPwrExt(Long nomPwrExt) {
 		this.nomPwrExt = nomPwrExt;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -420,6 +434,7 @@ public class AccessParameters {
 	 */
 	public void  setApmAuth(Long apmAuth) {
 		this.apmAuth = apmAuth;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -431,6 +446,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withApmAuth(Long apmAuth) {
 		this.apmAuth = apmAuth;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -452,6 +468,7 @@ public class AccessParameters {
 	 */
 	public void  setApmRandUpdatePrd(Long apmRandUpdatePrd) {
 		this.apmRandUpdatePrd = apmRandUpdatePrd;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -463,6 +480,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withApmRandUpdatePrd(Long apmRandUpdatePrd) {
 		this.apmRandUpdatePrd = apmRandUpdatePrd;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -484,6 +502,7 @@ public class AccessParameters {
 	 */
 	public void  setInitialpwr(Long initialpwr) {
 		this.initialpwr = initialpwr;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -495,6 +514,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withInitialpwr(Long initialpwr) {
 		this.initialpwr = initialpwr;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -516,6 +536,7 @@ public class AccessParameters {
 	 */
 	public void  setPwrStep(Long pwrStep) {
 		this.pwrStep = pwrStep;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -527,6 +548,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPwrStep(Long pwrStep) {
 		this.pwrStep = pwrStep;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -548,6 +570,7 @@ public class AccessParameters {
 	 */
 	public void  setNumStep(Long numStep) {
 		this.numStep = numStep;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -559,6 +582,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withNumStep(Long numStep) {
 		this.numStep = numStep;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -580,6 +604,7 @@ public class AccessParameters {
 	 */
 	public void  setMaxCapSize(Long maxCapSize) {
 		this.maxCapSize = maxCapSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -591,6 +616,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withMaxCapSize(Long maxCapSize) {
 		this.maxCapSize = maxCapSize;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -612,6 +638,7 @@ public class AccessParameters {
 	 */
 	public void  setPreambleSize(Long preambleSize) {
 		this.preambleSize = preambleSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -623,6 +650,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPreambleSize(Long preambleSize) {
 		this.preambleSize = preambleSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -644,6 +672,7 @@ public class AccessParameters {
 	 */
 	public void  setPsist09(Long psist09) {
 		this.psist09 = psist09;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -655,6 +684,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPsist09(Long psist09) {
 		this.psist09 = psist09;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -676,6 +706,7 @@ public class AccessParameters {
 	 */
 	public void  setPsist10(Long psist10) {
 		this.psist10 = psist10;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -687,6 +718,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPsist10(Long psist10) {
 		this.psist10 = psist10;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -708,6 +740,7 @@ public class AccessParameters {
 	 */
 	public void  setPsist11(Long psist11) {
 		this.psist11 = psist11;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -719,6 +752,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPsist11(Long psist11) {
 		this.psist11 = psist11;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -740,6 +774,7 @@ public class AccessParameters {
 	 */
 	public void  setPsist12(Long psist12) {
 		this.psist12 = psist12;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -751,6 +786,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPsist12(Long psist12) {
 		this.psist12 = psist12;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -772,6 +808,7 @@ public class AccessParameters {
 	 */
 	public void  setPsist13(Long psist13) {
 		this.psist13 = psist13;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -783,6 +820,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPsist13(Long psist13) {
 		this.psist13 = psist13;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -804,6 +842,7 @@ public class AccessParameters {
 	 */
 	public void  setPsist14(Long psist14) {
 		this.psist14 = psist14;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -815,6 +854,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPsist14(Long psist14) {
 		this.psist14 = psist14;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -836,6 +876,7 @@ public class AccessParameters {
 	 */
 	public void  setPsist15(Long psist15) {
 		this.psist15 = psist15;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -847,6 +888,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withPsist15(Long psist15) {
 		this.psist15 = psist15;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -868,6 +910,7 @@ public class AccessParameters {
 	 */
 	public void  setMsgPsist(Long msgPsist) {
 		this.msgPsist = msgPsist;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -879,6 +922,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withMsgPsist(Long msgPsist) {
 		this.msgPsist = msgPsist;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -900,6 +944,7 @@ public class AccessParameters {
 	 */
 	public void  setRegPsist(Long regPsist) {
 		this.regPsist = regPsist;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -911,6 +956,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withRegPsist(Long regPsist) {
 		this.regPsist = regPsist;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -932,6 +978,7 @@ public class AccessParameters {
 	 */
 	public void  setProbePNRan(Long probePNRan) {
 		this.probePNRan = probePNRan;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -943,6 +990,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withProbePNRan(Long probePNRan) {
 		this.probePNRan = probePNRan;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -964,6 +1012,7 @@ public class AccessParameters {
 	 */
 	public void  setAccTmo(Long accTmo) {
 		this.accTmo = accTmo;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -975,6 +1024,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withAccTmo(Long accTmo) {
 		this.accTmo = accTmo;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -996,6 +1046,7 @@ public class AccessParameters {
 	 */
 	public void  setProbeBkoff(Long probeBkoff) {
 		this.probeBkoff = probeBkoff;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1007,6 +1058,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withProbeBkoff(Long probeBkoff) {
 		this.probeBkoff = probeBkoff;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1028,6 +1080,7 @@ public class AccessParameters {
 	 */
 	public void  setBkoff(Long bkoff) {
 		this.bkoff = bkoff;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1039,6 +1092,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withBkoff(Long bkoff) {
 		this.bkoff = bkoff;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1060,6 +1114,7 @@ public class AccessParameters {
 	 */
 	public void  setMaxReqSeq(Long maxReqSeq) {
 		this.maxReqSeq = maxReqSeq;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1071,6 +1126,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withMaxReqSeq(Long maxReqSeq) {
 		this.maxReqSeq = maxReqSeq;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1092,6 +1148,7 @@ public class AccessParameters {
 	 */
 	public void  setMaxRspSeq(Long maxRspSeq) {
 		this.maxRspSeq = maxRspSeq;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1103,6 +1160,7 @@ public class AccessParameters {
 	 */
 	public AccessParameters withMaxRspSeq(Long maxRspSeq) {
 		this.maxRspSeq = maxRspSeq;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The object used for configuring extended system parameter messages for 1x
@@ -475,6 +476,11 @@ See {{bibref|3GPP2-C.S0005}}.
 	@Size(min = 0, max = 3)
 	public Long rvsPwrCtrlDelay;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ExtendedSystemParameters() {
 	}
 
@@ -497,6 +503,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public void  setPrev(Long prev) {
 		this.prev = prev;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -508,6 +515,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public ExtendedSystemParameters withPrev(Long prev) {
 		this.prev = prev;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -529,6 +537,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public void  setPminRev(Long pminRev) {
 		this.pminRev = pminRev;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -540,6 +549,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public ExtendedSystemParameters withPminRev(Long pminRev) {
 		this.pminRev = pminRev;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -565,6 +575,7 @@ The base station shall set this field to '1' to cause the mobile station to dele
 	 */
 	public void  setDeleteForTMSI(Long deleteForTMSI) {
 		this.deleteForTMSI = deleteForTMSI;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -578,6 +589,7 @@ The base station shall set this field to '1' to cause the mobile station to dele
 	 */
 	public ExtendedSystemParameters withDeleteForTMSI(Long deleteForTMSI) {
 		this.deleteForTMSI = deleteForTMSI;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -603,6 +615,7 @@ The base station shall set this field to the value shown next field correspondin
 	 */
 	public void  setUseTMSI(Long useTMSI) {
 		this.useTMSI = useTMSI;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -616,6 +629,7 @@ The base station shall set this field to the value shown next field correspondin
 	 */
 	public ExtendedSystemParameters withUseTMSI(Long useTMSI) {
 		this.useTMSI = useTMSI;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -665,6 +679,7 @@ The base station shall set this field to the value shown as below corresponding
 	 */
 	public void  setPrefMSIDType(Long prefMSIDType) {
 		this.prefMSIDType = prefMSIDType;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -690,6 +705,7 @@ The base station shall set this field to the value shown as below corresponding
 	 */
 	public ExtendedSystemParameters withPrefMSIDType(Long prefMSIDType) {
 		this.prefMSIDType = prefMSIDType;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -711,6 +727,7 @@ The base station shall set this field to the value shown as below corresponding
 	 */
 	public void  setMcc(Long mcc) {
 		this.mcc = mcc;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -722,6 +739,7 @@ The base station shall set this field to the value shown as below corresponding
 	 */
 	public ExtendedSystemParameters withMcc(Long mcc) {
 		this.mcc = mcc;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -743,6 +761,7 @@ The base station shall set this field to the value shown as below corresponding
 	 */
 	public void  setImsI1112(Long imsI1112) {
 		this.imsI1112 = imsI1112;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -754,6 +773,7 @@ The base station shall set this field to the value shown as below corresponding
 	 */
 	public ExtendedSystemParameters withImsI1112(Long imsI1112) {
 		this.imsI1112 = imsI1112;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -779,6 +799,7 @@ The base station shall set this field to the number of octets included in the TM
 	 */
 	public void  setTmsIZoneLen(Long tmsIZoneLen) {
 		this.tmsIZoneLen = tmsIZoneLen;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -792,6 +813,7 @@ The base station shall set this field to the number of octets included in the TM
 	 */
 	public ExtendedSystemParameters withTmsIZoneLen(Long tmsIZoneLen) {
 		this.tmsIZoneLen = tmsIZoneLen;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -817,6 +839,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public void  setTmsIZone(Long tmsIZone) {
 		this.tmsIZone = tmsIZone;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -830,6 +853,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public ExtendedSystemParameters withTmsIZone(Long tmsIZone) {
 		this.tmsIZone = tmsIZone;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -851,6 +875,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public void  setBcastIndex(Long bcastIndex) {
 		this.bcastIndex = bcastIndex;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -862,6 +887,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public ExtendedSystemParameters withBcastIndex(Long bcastIndex) {
 		this.bcastIndex = bcastIndex;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -883,6 +909,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public void  setImsITSupported(Integer imsITSupported) {
 		this.imsITSupported = imsITSupported;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -894,6 +921,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public ExtendedSystemParameters withImsITSupported(Integer imsITSupported) {
 		this.imsITSupported = imsITSupported;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -915,6 +943,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public void  setSoftSlope(Long softSlope) {
 		this.softSlope = softSlope;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -926,6 +955,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public ExtendedSystemParameters withSoftSlope(Long softSlope) {
 		this.softSlope = softSlope;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -947,6 +977,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public void  setAddIntercept(Long addIntercept) {
 		this.addIntercept = addIntercept;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -958,6 +989,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public ExtendedSystemParameters withAddIntercept(Long addIntercept) {
 		this.addIntercept = addIntercept;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -979,6 +1011,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public void  setDropIntercept(Long dropIntercept) {
 		this.dropIntercept = dropIntercept;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -990,6 +1023,7 @@ The base station shall set this field to the TMSI zone number as specified in {{
 	 */
 	public ExtendedSystemParameters withDropIntercept(Long dropIntercept) {
 		this.dropIntercept = dropIntercept;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1031,6 +1065,7 @@ The base station sets this field to a value greater than zero, in addition, the
 	 */
 	public void  setMaxNumAltSo(Long maxNumAltSo) {
 		this.maxNumAltSo = maxNumAltSo;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1052,6 +1087,7 @@ The base station sets this field to a value greater than zero, in addition, the
 	 */
 	public ExtendedSystemParameters withMaxNumAltSo(Long maxNumAltSo) {
 		this.maxNumAltSo = maxNumAltSo;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1077,6 +1113,7 @@ If the base station is including system reselection parameters, the base station
 	 */
 	public void  setReselectedIncluded(Long reselectedIncluded) {
 		this.reselectedIncluded = reselectedIncluded;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1090,6 +1127,7 @@ If the base station is including system reselection parameters, the base station
 	 */
 	public ExtendedSystemParameters withReselectedIncluded(Long reselectedIncluded) {
 		this.reselectedIncluded = reselectedIncluded;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1123,6 +1161,7 @@ where pilot_power_threshold is the pilot power, Ec, in dBm/1.23 MHz, below which
 	 */
 	public void  setEcthresh(Long ecthresh) {
 		this.ecthresh = ecthresh;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1140,6 +1179,7 @@ where pilot_power_threshold is the pilot power, Ec, in dBm/1.23 MHz, below which
 	 */
 	public ExtendedSystemParameters withEcthresh(Long ecthresh) {
 		this.ecthresh = ecthresh;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1173,6 +1213,7 @@ where pilot_threshold is the pilot Ec/Io below which the mobile station is to pe
 	 */
 	public void  setEcioThresh(Long ecioThresh) {
 		this.ecioThresh = ecioThresh;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1190,6 +1231,7 @@ where pilot_threshold is the pilot Ec/Io below which the mobile station is to pe
 	 */
 	public ExtendedSystemParameters withEcioThresh(Long ecioThresh) {
 		this.ecioThresh = ecioThresh;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1215,6 +1257,7 @@ The base station shall set this field to '1' if the mobile station is to report
 	 */
 	public void  setPilotReport(Long pilotReport) {
 		this.pilotReport = pilotReport;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1228,6 +1271,7 @@ The base station shall set this field to '1' if the mobile station is to report
 	 */
 	public ExtendedSystemParameters withPilotReport(Long pilotReport) {
 		this.pilotReport = pilotReport;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1253,6 +1297,7 @@ If the base station is including information on the Neighbor Set access entry ha
 	 */
 	public void  setNghbrSetEntryInfo(Long nghbrSetEntryInfo) {
 		this.nghbrSetEntryInfo = nghbrSetEntryInfo;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1266,6 +1311,7 @@ If the base station is including information on the Neighbor Set access entry ha
 	 */
 	public ExtendedSystemParameters withNghbrSetEntryInfo(Long nghbrSetEntryInfo) {
 		this.nghbrSetEntryInfo = nghbrSetEntryInfo;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1291,6 +1337,7 @@ If NghbrSetEntryInfo is set to '1', the base station shall set this field to '1'
 	 */
 	public void  setAccessHOOrder(Long accessHOOrder) {
 		this.accessHOOrder = accessHOOrder;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1304,6 +1351,7 @@ If NghbrSetEntryInfo is set to '1', the base station shall set this field to '1'
 	 */
 	public ExtendedSystemParameters withAccessHOOrder(Long accessHOOrder) {
 		this.accessHOOrder = accessHOOrder;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1329,6 +1377,7 @@ If the base station is including information on the Neighbor Set access handoff
 	 */
 	public void  setNghbrSetAccessInfo(Long nghbrSetAccessInfo) {
 		this.nghbrSetAccessInfo = nghbrSetAccessInfo;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1342,6 +1391,7 @@ If the base station is including information on the Neighbor Set access handoff
 	 */
 	public ExtendedSystemParameters withNghbrSetAccessInfo(Long nghbrSetAccessInfo) {
 		this.nghbrSetAccessInfo = nghbrSetAccessInfo;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1367,6 +1417,7 @@ If NghbrSetEntryInfo is set to '1', the base station shall set this field to '1'
 	 */
 	public void  setAccessHO(Long accessHO) {
 		this.accessHO = accessHO;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1380,6 +1431,7 @@ If NghbrSetEntryInfo is set to '1', the base station shall set this field to '1'
 	 */
 	public ExtendedSystemParameters withAccessHO(Long accessHO) {
 		this.accessHO = accessHO;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1409,6 +1461,7 @@ The base station shall set this field to '1' if the mobile station is permitted
 	 */
 	public void  setAccessHOMsgRsp(Long accessHOMsgRsp) {
 		this.accessHOMsgRsp = accessHOMsgRsp;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1424,6 +1477,7 @@ The base station shall set this field to '1' if the mobile station is permitted
 	 */
 	public ExtendedSystemParameters withAccessHOMsgRsp(Long accessHOMsgRsp) {
 		this.accessHOMsgRsp = accessHOMsgRsp;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1449,6 +1503,7 @@ If NghbrSetEntryInfo is set to '1', the base station shall set this field to '1'
 	 */
 	public void  setAccessProbeHO(Long accessProbeHO) {
 		this.accessProbeHO = accessProbeHO;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1462,6 +1517,7 @@ If NghbrSetEntryInfo is set to '1', the base station shall set this field to '1'
 	 */
 	public ExtendedSystemParameters withAccessProbeHO(Long accessProbeHO) {
 		this.accessProbeHO = accessProbeHO;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1487,6 +1543,7 @@ If AccessProbeHO is included and is set to '1', the base station shall set this
 	 */
 	public void  setAccHOListUpd(Long accHOListUpd) {
 		this.accHOListUpd = accHOListUpd;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1500,6 +1557,7 @@ If AccessProbeHO is included and is set to '1', the base station shall set this
 	 */
 	public ExtendedSystemParameters withAccHOListUpd(Long accHOListUpd) {
 		this.accHOListUpd = accHOListUpd;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1525,6 +1583,7 @@ If AccessProbeHO is set to '1', the base station shall set this field to '1' if
 	 */
 	public void  setAccProbeHOOtherMsg(Long accProbeHOOtherMsg) {
 		this.accProbeHOOtherMsg = accProbeHOOtherMsg;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1538,6 +1597,7 @@ If AccessProbeHO is set to '1', the base station shall set this field to '1' if
 	 */
 	public ExtendedSystemParameters withAccProbeHOOtherMsg(Long accProbeHOOtherMsg) {
 		this.accProbeHOOtherMsg = accProbeHOOtherMsg;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1563,6 +1623,7 @@ If AccessProbeHO is set to '1', the base station shall set this field to the max
 	 */
 	public void  setMaxNumProbeHO(Long maxNumProbeHO) {
 		this.maxNumProbeHO = maxNumProbeHO;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1576,6 +1637,7 @@ If AccessProbeHO is set to '1', the base station shall set this field to the max
 	 */
 	public ExtendedSystemParameters withMaxNumProbeHO(Long maxNumProbeHO) {
 		this.maxNumProbeHO = maxNumProbeHO;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1597,6 +1659,7 @@ If AccessProbeHO is set to '1', the base station shall set this field to the max
 	 */
 	public void  setBrdcastGPSAssit(Long brdcastGPSAssit) {
 		this.brdcastGPSAssit = brdcastGPSAssit;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1608,6 +1671,7 @@ If AccessProbeHO is set to '1', the base station shall set this field to the max
 	 */
 	public ExtendedSystemParameters withBrdcastGPSAssit(Long brdcastGPSAssit) {
 		this.brdcastGPSAssit = brdcastGPSAssit;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1633,6 +1697,7 @@ If the base station supports Quick Paging Channel operation, the base station sh
 	 */
 	public void  setQpcHSupported(Long qpcHSupported) {
 		this.qpcHSupported = qpcHSupported;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1646,6 +1711,7 @@ If the base station supports Quick Paging Channel operation, the base station sh
 	 */
 	public ExtendedSystemParameters withQpcHSupported(Long qpcHSupported) {
 		this.qpcHSupported = qpcHSupported;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1675,6 +1741,7 @@ The base station shall set this field to the number of Quick Paging Channels on
 	 */
 	public void  setNumQPCH(Long numQPCH) {
 		this.numQPCH = numQPCH;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1690,6 +1757,7 @@ The base station shall set this field to the number of Quick Paging Channels on
 	 */
 	public ExtendedSystemParameters withNumQPCH(Long numQPCH) {
 		this.numQPCH = numQPCH;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1715,6 +1783,7 @@ See {{bibref|3GPP2-C.S0005}}. {{param}} is set as follows:  0:  4800bps; 1:  960
 	 */
 	public void  setQpcHRate(Long qpcHRate) {
 		this.qpcHRate = qpcHRate;
+		if (this.dirty != null){ this.dirty.set(31);}
 	}
 
 	/**
@@ -1728,6 +1797,7 @@ See {{bibref|3GPP2-C.S0005}}. {{param}} is set as follows:  0:  4800bps; 1:  960
 	 */
 	public ExtendedSystemParameters withQpcHRate(Long qpcHRate) {
 		this.qpcHRate = qpcHRate;
+		if (this.dirty != null){ this.dirty.set(31);}
 		return this;
 	}
 
@@ -1753,6 +1823,7 @@ See {{bibref|3GPP2-C.S0005}}. {{param}} is set as follows:  0:  4800bps; 1:  960
 	 */
 	public void  setQpcHPwrLevelPage(Long qpcHPwrLevelPage) {
 		this.qpcHPwrLevelPage = qpcHPwrLevelPage;
+		if (this.dirty != null){ this.dirty.set(32);}
 	}
 
 	/**
@@ -1766,6 +1837,7 @@ See {{bibref|3GPP2-C.S0005}}. {{param}} is set as follows:  0:  4800bps; 1:  960
 	 */
 	public ExtendedSystemParameters withQpcHPwrLevelPage(Long qpcHPwrLevelPage) {
 		this.qpcHPwrLevelPage = qpcHPwrLevelPage;
+		if (this.dirty != null){ this.dirty.set(32);}
 		return this;
 	}
 
@@ -1791,6 +1863,7 @@ See {{bibref|3GPP2-C.S0005}}. {{param}} is set as follows:  0:  4800bps; 1:  960
 	 */
 	public void  setQpcHcciSupported(Long qpcHcciSupported) {
 		this.qpcHcciSupported = qpcHcciSupported;
+		if (this.dirty != null){ this.dirty.set(33);}
 	}
 
 	/**
@@ -1804,6 +1877,7 @@ See {{bibref|3GPP2-C.S0005}}. {{param}} is set as follows:  0:  4800bps; 1:  960
 	 */
 	public ExtendedSystemParameters withQpcHcciSupported(Long qpcHcciSupported) {
 		this.qpcHcciSupported = qpcHcciSupported;
+		if (this.dirty != null){ this.dirty.set(33);}
 		return this;
 	}
 
@@ -1829,6 +1903,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public void  setQpcHPwrLevelConfig(Long qpcHPwrLevelConfig) {
 		this.qpcHPwrLevelConfig = qpcHPwrLevelConfig;
+		if (this.dirty != null){ this.dirty.set(34);}
 	}
 
 	/**
@@ -1842,6 +1917,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public ExtendedSystemParameters withQpcHPwrLevelConfig(Long qpcHPwrLevelConfig) {
 		this.qpcHPwrLevelConfig = qpcHPwrLevelConfig;
+		if (this.dirty != null){ this.dirty.set(34);}
 		return this;
 	}
 
@@ -1867,6 +1943,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public void  setSdbSupported(Long sdbSupported) {
 		this.sdbSupported = sdbSupported;
+		if (this.dirty != null){ this.dirty.set(35);}
 	}
 
 	/**
@@ -1880,6 +1957,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public ExtendedSystemParameters withSdbSupported(Long sdbSupported) {
 		this.sdbSupported = sdbSupported;
+		if (this.dirty != null){ this.dirty.set(35);}
 		return this;
 	}
 
@@ -1905,6 +1983,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public void  setRlgainTrafficPilot(Long rlgainTrafficPilot) {
 		this.rlgainTrafficPilot = rlgainTrafficPilot;
+		if (this.dirty != null){ this.dirty.set(36);}
 	}
 
 	/**
@@ -1918,6 +1997,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public ExtendedSystemParameters withRlgainTrafficPilot(Long rlgainTrafficPilot) {
 		this.rlgainTrafficPilot = rlgainTrafficPilot;
+		if (this.dirty != null){ this.dirty.set(36);}
 		return this;
 	}
 
@@ -1943,6 +2023,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public void  setRvsPwrCtrlDelayIncl(Long rvsPwrCtrlDelayIncl) {
 		this.rvsPwrCtrlDelayIncl = rvsPwrCtrlDelayIncl;
+		if (this.dirty != null){ this.dirty.set(37);}
 	}
 
 	/**
@@ -1956,6 +2037,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public ExtendedSystemParameters withRvsPwrCtrlDelayIncl(Long rvsPwrCtrlDelayIncl) {
 		this.rvsPwrCtrlDelayIncl = rvsPwrCtrlDelayIncl;
+		if (this.dirty != null){ this.dirty.set(37);}
 		return this;
 	}
 
@@ -1981,6 +2063,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public void  setRvsPwrCtrlDelay(Long rvsPwrCtrlDelay) {
 		this.rvsPwrCtrlDelay = rvsPwrCtrlDelay;
+		if (this.dirty != null){ this.dirty.set(38);}
 	}
 
 	/**
@@ -1994,6 +2077,7 @@ See {{bibref|3GPP2-C.S0005}}.
 	 */
 	public ExtendedSystemParameters withRvsPwrCtrlDelay(Long rvsPwrCtrlDelay) {
 		this.rvsPwrCtrlDelay = rvsPwrCtrlDelay;
+		if (this.dirty != null){ this.dirty.set(38);}
 		return this;
 	}
 
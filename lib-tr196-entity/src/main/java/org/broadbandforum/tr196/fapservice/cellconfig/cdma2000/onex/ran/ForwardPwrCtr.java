@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The object used for configuring extended channel assignment  messages for 1x
@@ -90,6 +91,11 @@ public class ForwardPwrCtr {
 	@Size(min = -128, max = 127)
 	public Integer fpcFCHMaxSetpt;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ForwardPwrCtr() {
 	}
 
@@ -112,6 +118,7 @@ public class ForwardPwrCtr {
 	 */
 	public void  setFpcFCHInitSetpt(Integer fpcFCHInitSetpt) {
 		this.fpcFCHInitSetpt = fpcFCHInitSetpt;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -123,6 +130,7 @@ public class ForwardPwrCtr {
 	 */
 	public ForwardPwrCtr withFpcFCHInitSetpt(Integer fpcFCHInitSetpt) {
 		this.fpcFCHInitSetpt = fpcFCHInitSetpt;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -144,6 +152,7 @@ public class ForwardPwrCtr {
 	 */
 	public void  setFpcSubchanGain(Integer fpcSubchanGain) {
 		this.fpcSubchanGain = fpcSubchanGain;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -155,6 +164,7 @@ public class ForwardPwrCtr {
 	 */
 	public ForwardPwrCtr withFpcSubchanGain(Integer fpcSubchanGain) {
 		this.fpcSubchanGain = fpcSubchanGain;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -176,6 +186,7 @@ public class ForwardPwrCtr {
 	 */
 	public void  setRlgainAdj(Integer rlgainAdj) {
 		this.rlgainAdj = rlgainAdj;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -187,6 +198,7 @@ public class ForwardPwrCtr {
 	 */
 	public ForwardPwrCtr withRlgainAdj(Integer rlgainAdj) {
 		this.rlgainAdj = rlgainAdj;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -208,6 +220,7 @@ public class ForwardPwrCtr {
 	 */
 	public void  setFpcFCHFER(Long fpcFCHFER) {
 		this.fpcFCHFER = fpcFCHFER;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -219,6 +232,7 @@ public class ForwardPwrCtr {
 	 */
 	public ForwardPwrCtr withFpcFCHFER(Long fpcFCHFER) {
 		this.fpcFCHFER = fpcFCHFER;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -240,6 +254,7 @@ public class ForwardPwrCtr {
 	 */
 	public void  setFpcFCHMinSetpt(Integer fpcFCHMinSetpt) {
 		this.fpcFCHMinSetpt = fpcFCHMinSetpt;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -251,6 +266,7 @@ public class ForwardPwrCtr {
 	 */
 	public ForwardPwrCtr withFpcFCHMinSetpt(Integer fpcFCHMinSetpt) {
 		this.fpcFCHMinSetpt = fpcFCHMinSetpt;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -272,6 +288,7 @@ public class ForwardPwrCtr {
 	 */
 	public void  setFpcFCHMaxSetpt(Integer fpcFCHMaxSetpt) {
 		this.fpcFCHMaxSetpt = fpcFCHMaxSetpt;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -283,6 +300,7 @@ public class ForwardPwrCtr {
 	 */
 	public ForwardPwrCtr withFpcFCHMaxSetpt(Integer fpcFCHMaxSetpt) {
 		this.fpcFCHMaxSetpt = fpcFCHMaxSetpt;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran.hardhandoff.Stats;
 
 	/**
@@ -68,6 +69,11 @@ public class HardHandoff {
 	@XmlElement(name = "Stats")
 	public Stats stats;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HardHandoff() {
 	}
 
@@ -90,6 +96,7 @@ public class HardHandoff {
 	 */
 	public void  setHandoutEnable(Boolean handoutEnable) {
 		this.handoutEnable = handoutEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -101,6 +108,7 @@ public class HardHandoff {
 	 */
 	public HardHandoff withHandoutEnable(Boolean handoutEnable) {
 		this.handoutEnable = handoutEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -122,6 +130,7 @@ public class HardHandoff {
 	 */
 	public void  setHopilotPowerThresh(Integer hopilotPowerThresh) {
 		this.hopilotPowerThresh = hopilotPowerThresh;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -133,6 +142,7 @@ public class HardHandoff {
 	 */
 	public HardHandoff withHopilotPowerThresh(Integer hopilotPowerThresh) {
 		this.hopilotPowerThresh = hopilotPowerThresh;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -154,6 +164,7 @@ public class HardHandoff {
 	 */
 	public void  setHopilotDuration(Long hopilotDuration) {
 		this.hopilotDuration = hopilotDuration;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -165,6 +176,7 @@ public class HardHandoff {
 	 */
 	public HardHandoff withHopilotDuration(Long hopilotDuration) {
 		this.hopilotDuration = hopilotDuration;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
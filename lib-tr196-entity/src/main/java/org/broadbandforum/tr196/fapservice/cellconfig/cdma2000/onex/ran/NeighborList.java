@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains information common to all neighbors of a sector. This object has only one instance.
@@ -218,6 +220,16 @@ public class NeighborList {
 	@XmlElement(name = "IncludedInOverhead")
 	public Boolean includedInOverhead;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public NeighborList() {
 	}
 
@@ -240,6 +252,7 @@ public class NeighborList {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -251,6 +264,7 @@ public class NeighborList {
 	 */
 	public NeighborList withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -272,6 +286,8 @@ public class NeighborList {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -283,6 +299,8 @@ public class NeighborList {
 	 */
 	public NeighborList withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -304,6 +322,7 @@ public class NeighborList {
 	 */
 	public void  setPilotInc(Integer pilotInc) {
 		this.pilotInc = pilotInc;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -315,6 +334,7 @@ public class NeighborList {
 	 */
 	public NeighborList withPilotInc(Integer pilotInc) {
 		this.pilotInc = pilotInc;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -336,6 +356,8 @@ public class NeighborList {
 	 */
 	public void  setOneXNeighborIndex(Integer oneXNeighborIndex) {
 		this.oneXNeighborIndex = oneXNeighborIndex;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -347,6 +369,8 @@ public class NeighborList {
 	 */
 	public NeighborList withOneXNeighborIndex(Integer oneXNeighborIndex) {
 		this.oneXNeighborIndex = oneXNeighborIndex;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -368,6 +392,7 @@ public class NeighborList {
 	 */
 	public void  setNeighborConfig(String neighborConfig) {
 		this.neighborConfig = neighborConfig;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -379,6 +404,7 @@ public class NeighborList {
 	 */
 	public NeighborList withNeighborConfig(String neighborConfig) {
 		this.neighborConfig = neighborConfig;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -400,6 +426,8 @@ public class NeighborList {
 	 */
 	public void  setNeighborPN(Integer neighborPN) {
 		this.neighborPN = neighborPN;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -411,6 +439,8 @@ public class NeighborList {
 	 */
 	public NeighborList withNeighborPN(Integer neighborPN) {
 		this.neighborPN = neighborPN;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -432,6 +462,7 @@ public class NeighborList {
 	 */
 	public void  setSearchPriority(String searchPriority) {
 		this.searchPriority = searchPriority;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -443,6 +474,7 @@ public class NeighborList {
 	 */
 	public NeighborList withSearchPriority(String searchPriority) {
 		this.searchPriority = searchPriority;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -464,6 +496,7 @@ public class NeighborList {
 	 */
 	public void  setNeighborBand(String neighborBand) {
 		this.neighborBand = neighborBand;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -475,6 +508,7 @@ public class NeighborList {
 	 */
 	public NeighborList withNeighborBand(String neighborBand) {
 		this.neighborBand = neighborBand;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -496,6 +530,7 @@ public class NeighborList {
 	 */
 	public void  setNeighborFrequency(Integer neighborFrequency) {
 		this.neighborFrequency = neighborFrequency;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -507,6 +542,7 @@ public class NeighborList {
 	 */
 	public NeighborList withNeighborFrequency(Integer neighborFrequency) {
 		this.neighborFrequency = neighborFrequency;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -528,6 +564,7 @@ public class NeighborList {
 	 */
 	public void  setFrequencyIncluded(Integer frequencyIncluded) {
 		this.frequencyIncluded = frequencyIncluded;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -539,6 +576,7 @@ public class NeighborList {
 	 */
 	public NeighborList withFrequencyIncluded(Integer frequencyIncluded) {
 		this.frequencyIncluded = frequencyIncluded;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -560,6 +598,7 @@ public class NeighborList {
 	 */
 	public void  setIntraffic(Integer intraffic) {
 		this.intraffic = intraffic;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -571,6 +610,7 @@ public class NeighborList {
 	 */
 	public NeighborList withIntraffic(Integer intraffic) {
 		this.intraffic = intraffic;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -592,6 +632,7 @@ public class NeighborList {
 	 */
 	public void  setOverheadMsg(Integer overheadMsg) {
 		this.overheadMsg = overheadMsg;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -603,6 +644,7 @@ public class NeighborList {
 	 */
 	public NeighborList withOverheadMsg(Integer overheadMsg) {
 		this.overheadMsg = overheadMsg;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -624,6 +666,7 @@ public class NeighborList {
 	 */
 	public void  setBaseIdentifier(Integer baseIdentifier) {
 		this.baseIdentifier = baseIdentifier;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -635,6 +678,7 @@ public class NeighborList {
 	 */
 	public NeighborList withBaseIdentifier(Integer baseIdentifier) {
 		this.baseIdentifier = baseIdentifier;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -656,6 +700,7 @@ public class NeighborList {
 	 */
 	public void  setAirInterface(String airInterface) {
 		this.airInterface = airInterface;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -667,6 +712,7 @@ public class NeighborList {
 	 */
 	public NeighborList withAirInterface(String airInterface) {
 		this.airInterface = airInterface;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -688,6 +734,7 @@ public class NeighborList {
 	 */
 	public void  setHandOutCapable(Integer handOutCapable) {
 		this.handOutCapable = handOutCapable;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -699,6 +746,7 @@ public class NeighborList {
 	 */
 	public NeighborList withHandOutCapable(Integer handOutCapable) {
 		this.handOutCapable = handOutCapable;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -720,6 +768,7 @@ public class NeighborList {
 	 */
 	public void  setOneXNeighborLongitude(String oneXNeighborLongitude) {
 		this.oneXNeighborLongitude = oneXNeighborLongitude;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -731,6 +780,7 @@ public class NeighborList {
 	 */
 	public NeighborList withOneXNeighborLongitude(String oneXNeighborLongitude) {
 		this.oneXNeighborLongitude = oneXNeighborLongitude;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -752,6 +802,7 @@ public class NeighborList {
 	 */
 	public void  setOneXNeighborLatitude(String oneXNeighborLatitude) {
 		this.oneXNeighborLatitude = oneXNeighborLatitude;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -763,6 +814,7 @@ public class NeighborList {
 	 */
 	public NeighborList withOneXNeighborLatitude(String oneXNeighborLatitude) {
 		this.oneXNeighborLatitude = oneXNeighborLatitude;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -784,6 +836,7 @@ public class NeighborList {
 	 */
 	public void  setOneXNeighborMSCId(Long oneXNeighborMSCId) {
 		this.oneXNeighborMSCId = oneXNeighborMSCId;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -795,6 +848,7 @@ public class NeighborList {
 	 */
 	public NeighborList withOneXNeighborMSCId(Long oneXNeighborMSCId) {
 		this.oneXNeighborMSCId = oneXNeighborMSCId;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -816,6 +870,7 @@ public class NeighborList {
 	 */
 	public void  setOneXNeighborIOSCellId(Long oneXNeighborIOSCellId) {
 		this.oneXNeighborIOSCellId = oneXNeighborIOSCellId;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -827,6 +882,7 @@ public class NeighborList {
 	 */
 	public NeighborList withOneXNeighborIOSCellId(Long oneXNeighborIOSCellId) {
 		this.oneXNeighborIOSCellId = oneXNeighborIOSCellId;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -848,6 +904,7 @@ public class NeighborList {
 	 */
 	public void  setForceInOverhead(Boolean forceInOverhead) {
 		this.forceInOverhead = forceInOverhead;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -859,6 +916,7 @@ public class NeighborList {
 	 */
 	public NeighborList withForceInOverhead(Boolean forceInOverhead) {
 		this.forceInOverhead = forceInOverhead;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -880,6 +938,7 @@ public class NeighborList {
 	 */
 	public void  setIncludedInOverhead(Boolean includedInOverhead) {
 		this.includedInOverhead = includedInOverhead;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -891,6 +950,7 @@ public class NeighborList {
 	 */
 	public NeighborList withIncludedInOverhead(Boolean includedInOverhead) {
 		this.includedInOverhead = includedInOverhead;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to self-configuration of the MaxFAPTxPower of the FAP.
@@ -129,6 +131,11 @@ If an empty string then it indicates that there are no channels adjacent to the
 	@CWMPParameter(access = "readWrite", units = "dB")
 	public Long aciR;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NetworkListenModeConfig() {
 	}
 
@@ -151,6 +158,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public void  setRfcNFLMargin(Long rfcNFLMargin) {
 		this.rfcNFLMargin = rfcNFLMargin;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -162,6 +170,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public NetworkListenModeConfig withRfcNFLMargin(Long rfcNFLMargin) {
 		this.rfcNFLMargin = rfcNFLMargin;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -191,6 +200,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public void  setFapCoverageTarget(String fapCoverageTarget) {
 		this.fapCoverageTarget = fapCoverageTarget;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -206,6 +216,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public NetworkListenModeConfig withFapCoverageTarget(String fapCoverageTarget) {
 		this.fapCoverageTarget = fapCoverageTarget;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -239,6 +250,7 @@ between the minimum and maximum values, i.e., "<BeaconCoverageTarget_min>..<Beac
 	 */
 	public void  setFapBeaconCoverageTarget(String fapBeaconCoverageTarget) {
 		this.fapBeaconCoverageTarget = fapBeaconCoverageTarget;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -256,6 +268,7 @@ between the minimum and maximum values, i.e., "<BeaconCoverageTarget_min>..<Beac
 	 */
 	public NetworkListenModeConfig withFapBeaconCoverageTarget(String fapBeaconCoverageTarget) {
 		this.fapBeaconCoverageTarget = fapBeaconCoverageTarget;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -277,6 +290,7 @@ between the minimum and maximum values, i.e., "<BeaconCoverageTarget_min>..<Beac
 	 */
 	public void  setMaxCoverageEdgePilotStrength(Integer maxCoverageEdgePilotStrength) {
 		this.maxCoverageEdgePilotStrength = maxCoverageEdgePilotStrength;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -288,6 +302,7 @@ between the minimum and maximum values, i.e., "<BeaconCoverageTarget_min>..<Beac
 	 */
 	public NetworkListenModeConfig withMaxCoverageEdgePilotStrength(Integer maxCoverageEdgePilotStrength) {
 		this.maxCoverageEdgePilotStrength = maxCoverageEdgePilotStrength;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -313,6 +328,7 @@ noise) for alien users can be degraded in the presence of FAP interference at th
 	 */
 	public void  setMaxAllowablePilotStrengthDegradation(Integer maxAllowablePilotStrengthDegradation) {
 		this.maxAllowablePilotStrengthDegradation = maxAllowablePilotStrengthDegradation;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -326,6 +342,7 @@ noise) for alien users can be degraded in the presence of FAP interference at th
 	 */
 	public NetworkListenModeConfig withMaxAllowablePilotStrengthDegradation(Integer maxAllowablePilotStrengthDegradation) {
 		this.maxAllowablePilotStrengthDegradation = maxAllowablePilotStrengthDegradation;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -348,6 +365,25 @@ If an empty string then it indicates that there are no channels adjacent to the
 		return rfcNFLToProtect;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a FL RFCN corresponding to a CDMA2000 carrier that is adjacent to the RFCNFLInUse to be protected from adjacent channel interference. If any of the items in the list are adjacent to the FAP's own FL channel, the FAP MUST take the PilotStrength and total received power spectral density (Io) measured on these channels into account as part of its maximum transmit power selfconfiguration.
+
+The RFCNs in the list can belong to any operator, allowing for protection of the FAP operator's own macro layer as well as that of other operators.
+
+The list should take into account the ability of the FAP to self-configure its own FL RFCN and so SHOULD include any channels (requiring protection) which can potentially be adjacent to the RFCN selected by the FAP.
+
+For example, if only adjacent operator protection is needed and the FAP has the ability to self-configure to any channel owned by its operator, this list would be populated with the RFCNs immediately above and below the range of channels owned by the FAP operator.
+
+If an empty string then it indicates that there are no channels adjacent to the FAP that require protection, or that self-configuration of the FAP transmit power is not enabled.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRfcNFLToProtect() {
+		return rfcNFLToProtect == null ? Collections.emptyList() : rfcNFLToProtect;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a FL RFCN corresponding to a CDMA2000 carrier that is adjacent to the RFCNFLInUse to be protected from adjacent channel interference. If any of the items in the list are adjacent to the FAP's own FL channel, the FAP MUST take the PilotStrength and total received power spectral density (Io) measured on these channels into account as part of its maximum transmit power selfconfiguration.
 
@@ -364,6 +400,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public void  setRfcNFLToProtect(Collection<String> rfcNFLToProtect) {
 		this.rfcNFLToProtect = rfcNFLToProtect;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -383,6 +420,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public NetworkListenModeConfig withRfcNFLToProtect(String string) {
 		getRfcNFLToProtect().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -404,6 +442,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public void  setFapAllowedAdjChanCoverageHole(Long fapAllowedAdjChanCoverageHole) {
 		this.fapAllowedAdjChanCoverageHole = fapAllowedAdjChanCoverageHole;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -415,6 +454,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public NetworkListenModeConfig withFapAllowedAdjChanCoverageHole(Long fapAllowedAdjChanCoverageHole) {
 		this.fapAllowedAdjChanCoverageHole = fapAllowedAdjChanCoverageHole;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -436,6 +476,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public void  setAciR(Long aciR) {
 		this.aciR = aciR;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -447,6 +488,7 @@ If an empty string then it indicates that there are no channels adjacent to the
 	 */
 	public NetworkListenModeConfig withAciR(Long aciR) {
 		this.aciR = aciR;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Configuration Managed Object for OTA  power control attribute.
@@ -126,6 +127,11 @@ public class PowerControl {
 	@Size(min = 0, max = 31)
 	public Long oneXPCPwrRepDelay;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PowerControl() {
 	}
 
@@ -148,6 +154,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCFPCIncl(Integer oneXPCFPCIncl) {
 		this.oneXPCFPCIncl = oneXPCFPCIncl;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -159,6 +166,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCFPCIncl(Integer oneXPCFPCIncl) {
 		this.oneXPCFPCIncl = oneXPCFPCIncl;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -180,6 +188,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCFPCFCHMinSetpt(Integer oneXPCFPCFCHMinSetpt) {
 		this.oneXPCFPCFCHMinSetpt = oneXPCFPCFCHMinSetpt;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -191,6 +200,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCFPCFCHMinSetpt(Integer oneXPCFPCFCHMinSetpt) {
 		this.oneXPCFPCFCHMinSetpt = oneXPCFPCFCHMinSetpt;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -212,6 +222,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCFPCFCHMaxSetpt(Integer oneXPCFPCFCHMaxSetpt) {
 		this.oneXPCFPCFCHMaxSetpt = oneXPCFPCFCHMaxSetpt;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -223,6 +234,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCFPCFCHMaxSetpt(Integer oneXPCFPCFCHMaxSetpt) {
 		this.oneXPCFPCFCHMaxSetpt = oneXPCFPCFCHMaxSetpt;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -244,6 +256,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCRPCIncl(Integer oneXPCRPCIncl) {
 		this.oneXPCRPCIncl = oneXPCRPCIncl;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -255,6 +268,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCRPCIncl(Integer oneXPCRPCIncl) {
 		this.oneXPCRPCIncl = oneXPCRPCIncl;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -276,6 +290,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCFCHChanAdjGain(Integer oneXPCFCHChanAdjGain) {
 		this.oneXPCFCHChanAdjGain = oneXPCFCHChanAdjGain;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -287,6 +302,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCFCHChanAdjGain(Integer oneXPCFCHChanAdjGain) {
 		this.oneXPCFCHChanAdjGain = oneXPCFCHChanAdjGain;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -308,6 +324,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCPwrRepThresh(Long oneXPCPwrRepThresh) {
 		this.oneXPCPwrRepThresh = oneXPCPwrRepThresh;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -319,6 +336,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCPwrRepThresh(Long oneXPCPwrRepThresh) {
 		this.oneXPCPwrRepThresh = oneXPCPwrRepThresh;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -340,6 +358,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCPwrRepFrames(Long oneXPCPwrRepFrames) {
 		this.oneXPCPwrRepFrames = oneXPCPwrRepFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -351,6 +370,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCPwrRepFrames(Long oneXPCPwrRepFrames) {
 		this.oneXPCPwrRepFrames = oneXPCPwrRepFrames;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -372,6 +392,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPwrThreshEnable(Integer oneXPwrThreshEnable) {
 		this.oneXPwrThreshEnable = oneXPwrThreshEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -383,6 +404,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPwrThreshEnable(Integer oneXPwrThreshEnable) {
 		this.oneXPwrThreshEnable = oneXPwrThreshEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -404,6 +426,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCPwrPeriodEnable(Integer oneXPCPwrPeriodEnable) {
 		this.oneXPCPwrPeriodEnable = oneXPCPwrPeriodEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -415,6 +438,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCPwrPeriodEnable(Integer oneXPCPwrPeriodEnable) {
 		this.oneXPCPwrPeriodEnable = oneXPCPwrPeriodEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -436,6 +460,7 @@ public class PowerControl {
 	 */
 	public void  setOneXPCPwrRepDelay(Long oneXPCPwrRepDelay) {
 		this.oneXPCPwrRepDelay = oneXPCPwrRepDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -447,6 +472,7 @@ public class PowerControl {
 	 */
 	public PowerControl withOneXPCPwrRepDelay(Long oneXPCPwrRepDelay) {
 		this.oneXPCPwrRepDelay = oneXPCPwrRepDelay;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
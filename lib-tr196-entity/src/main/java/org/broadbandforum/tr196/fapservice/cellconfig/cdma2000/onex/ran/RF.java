@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.cdma2000.onex.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to RF configuration of the FAP.
@@ -149,6 +151,11 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	@Size(min = 1000, max = 1000000)
 	public Long syncPwrPercentage;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -168,6 +175,21 @@ An example value is "010001, 030500". If multiple items are specified, they are
 		return rfcNFL;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a pair of 2-digit Band class number (as defined in {{bibref|3GPP2-C.S0057}}) followed by 4-digit FL Radio Frequency Channel Number (RFCN). Self-configuration for RFCN is controlled by {{param|.FAPControl.CDMA2000.OneX.SelfConfig.RFCNFLSelfConfigEnable}}. If the FAP's self-configuration capability for RFCN is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for RFCNFLInUse.
+
+If the self-configuration capability is not available or not enabled, then  this parameter SHOULD contain only a single item.
+
+An example value is "010001, 030500". If multiple items are specified, they are done in the order of preference.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRfcNFL() {
+		return rfcNFL == null ? Collections.emptyList() : rfcNFL;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a pair of 2-digit Band class number (as defined in {{bibref|3GPP2-C.S0057}}) followed by 4-digit FL Radio Frequency Channel Number (RFCN). Self-configuration for RFCN is controlled by {{param|.FAPControl.CDMA2000.OneX.SelfConfig.RFCNFLSelfConfigEnable}}. If the FAP's self-configuration capability for RFCN is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for RFCNFLInUse.
 
@@ -180,6 +202,7 @@ An example value is "010001, 030500". If multiple items are specified, they are
 	 */
 	public void  setRfcNFL(Collection<String> rfcNFL) {
 		this.rfcNFL = rfcNFL;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -195,6 +218,7 @@ An example value is "010001, 030500". If multiple items are specified, they are
 	 */
 	public RF withRfcNFL(String string) {
 		getRfcNFL().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -216,6 +240,7 @@ An example value is "010001, 030500". If multiple items are specified, they are
 	 */
 	public void  setRfcNFLBandInUse(String rfcNFLBandInUse) {
 		this.rfcNFLBandInUse = rfcNFLBandInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -227,6 +252,7 @@ An example value is "010001, 030500". If multiple items are specified, they are
 	 */
 	public RF withRfcNFLBandInUse(String rfcNFLBandInUse) {
 		this.rfcNFLBandInUse = rfcNFLBandInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -248,6 +274,7 @@ An example value is "010001, 030500". If multiple items are specified, they are
 	 */
 	public void  setRfcNFLInUse(Long rfcNFLInUse) {
 		this.rfcNFLInUse = rfcNFLInUse;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -259,6 +286,7 @@ An example value is "010001, 030500". If multiple items are specified, they are
 	 */
 	public RF withRfcNFLInUse(Long rfcNFLInUse) {
 		this.rfcNFLInUse = rfcNFLInUse;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -279,6 +307,23 @@ The order of the items has no significance.
 		return pilotPN;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a pilot PN offset in units of 64 PN chips. Self-configuration for pilot PN is controlled by {{param|.Capabilities.CDMA2000.OneX.SelfConfig.PilotPNConfig}} from an availability perspective and {{param|.FAPControl.CDMA2000.OneX.SelfConfig.PilotPNSelfConfigEnable}} from an enabled perspective.
+
+If the FAP's self-configuration capability for Pilot PN Offset is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for PilotPNInUse. If the self-configuration capability is not available or not enabled, then this parameter SHOULD contain only a single item.
+
+The multiplicity of the PN offset values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive.
+
+The order of the items has no significance.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPilotPN() {
+		return pilotPN == null ? Collections.emptyList() : pilotPN;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a pilot PN offset in units of 64 PN chips. Self-configuration for pilot PN is controlled by {{param|.Capabilities.CDMA2000.OneX.SelfConfig.PilotPNConfig}} from an availability perspective and {{param|.FAPControl.CDMA2000.OneX.SelfConfig.PilotPNSelfConfigEnable}} from an enabled perspective.
 
@@ -293,6 +338,7 @@ The order of the items has no significance.
 	 */
 	public void  setPilotPN(Collection<String> pilotPN) {
 		this.pilotPN = pilotPN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -310,6 +356,7 @@ The order of the items has no significance.
 	 */
 	public RF withPilotPN(String string) {
 		getPilotPN().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -335,6 +382,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setPilotPNInUse(Long pilotPNInUse) {
 		this.pilotPNInUse = pilotPNInUse;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -348,6 +396,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RF withPilotPNInUse(Long pilotPNInUse) {
 		this.pilotPNInUse = pilotPNInUse;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -381,6 +430,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setMaxFAPTxPower(String maxFAPTxPower) {
 		this.maxFAPTxPower = maxFAPTxPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -398,6 +448,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withMaxFAPTxPower(String maxFAPTxPower) {
 		this.maxFAPTxPower = maxFAPTxPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -431,6 +482,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setMaxFAPTxPowerInUse(Integer maxFAPTxPowerInUse) {
 		this.maxFAPTxPowerInUse = maxFAPTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -448,6 +500,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withMaxFAPTxPowerInUse(Integer maxFAPTxPowerInUse) {
 		this.maxFAPTxPowerInUse = maxFAPTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -469,6 +522,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setPchPwrPercentage(Long pchPwrPercentage) {
 		this.pchPwrPercentage = pchPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -480,6 +534,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withPchPwrPercentage(Long pchPwrPercentage) {
 		this.pchPwrPercentage = pchPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -501,6 +556,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setPilotPwrPercentage(Long pilotPwrPercentage) {
 		this.pilotPwrPercentage = pilotPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -512,6 +568,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withPilotPwrPercentage(Long pilotPwrPercentage) {
 		this.pilotPwrPercentage = pilotPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -533,6 +590,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setSyncPwrPercentage(Long syncPwrPercentage) {
 		this.syncPwrPercentage = syncPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -544,6 +602,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withSyncPwrPercentage(Long syncPwrPercentage) {
 		this.syncPwrPercentage = syncPwrPercentage;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * The object used for configuring system parameter messages for 1x
@@ -234,6 +235,11 @@ public class SystemParameters {
 	@Size(min = 0, max = 15)
 	public Long intrafficTtdrop;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SystemParameters() {
 	}
 
@@ -256,6 +262,7 @@ public class SystemParameters {
 	 */
 	public void  setRegZone(Long regZone) {
 		this.regZone = regZone;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -267,6 +274,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withRegZone(Long regZone) {
 		this.regZone = regZone;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -288,6 +296,7 @@ public class SystemParameters {
 	 */
 	public void  setTotalZones(Long totalZones) {
 		this.totalZones = totalZones;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -299,6 +308,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withTotalZones(Long totalZones) {
 		this.totalZones = totalZones;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -320,6 +330,7 @@ public class SystemParameters {
 	 */
 	public void  setZoneTimer(Long zoneTimer) {
 		this.zoneTimer = zoneTimer;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -331,6 +342,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withZoneTimer(Long zoneTimer) {
 		this.zoneTimer = zoneTimer;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -352,6 +364,7 @@ public class SystemParameters {
 	 */
 	public void  setRegPeriod(Long regPeriod) {
 		this.regPeriod = regPeriod;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -363,6 +376,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withRegPeriod(Long regPeriod) {
 		this.regPeriod = regPeriod;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -384,6 +398,7 @@ public class SystemParameters {
 	 */
 	public void  setSrchWinA(Long srchWinA) {
 		this.srchWinA = srchWinA;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -395,6 +410,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withSrchWinA(Long srchWinA) {
 		this.srchWinA = srchWinA;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -416,6 +432,7 @@ public class SystemParameters {
 	 */
 	public void  setSrchWinN(Long srchWinN) {
 		this.srchWinN = srchWinN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -427,6 +444,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withSrchWinN(Long srchWinN) {
 		this.srchWinN = srchWinN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -448,6 +466,7 @@ public class SystemParameters {
 	 */
 	public void  setSrchWinR(Long srchWinR) {
 		this.srchWinR = srchWinR;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -459,6 +478,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withSrchWinR(Long srchWinR) {
 		this.srchWinR = srchWinR;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -480,6 +500,7 @@ public class SystemParameters {
 	 */
 	public void  setNghbrMaxAge(Long nghbrMaxAge) {
 		this.nghbrMaxAge = nghbrMaxAge;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -491,6 +512,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withNghbrMaxAge(Long nghbrMaxAge) {
 		this.nghbrMaxAge = nghbrMaxAge;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -512,6 +534,7 @@ public class SystemParameters {
 	 */
 	public void  setPwrRepThresh(Long pwrRepThresh) {
 		this.pwrRepThresh = pwrRepThresh;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -523,6 +546,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withPwrRepThresh(Long pwrRepThresh) {
 		this.pwrRepThresh = pwrRepThresh;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -544,6 +568,7 @@ public class SystemParameters {
 	 */
 	public void  setPwrRepFrames(Long pwrRepFrames) {
 		this.pwrRepFrames = pwrRepFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -555,6 +580,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withPwrRepFrames(Long pwrRepFrames) {
 		this.pwrRepFrames = pwrRepFrames;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -576,6 +602,7 @@ public class SystemParameters {
 	 */
 	public void  setPwrThreshEnable(Long pwrThreshEnable) {
 		this.pwrThreshEnable = pwrThreshEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -587,6 +614,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withPwrThreshEnable(Long pwrThreshEnable) {
 		this.pwrThreshEnable = pwrThreshEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -608,6 +636,7 @@ public class SystemParameters {
 	 */
 	public void  setPwrPeriodEnable(Long pwrPeriodEnable) {
 		this.pwrPeriodEnable = pwrPeriodEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -619,6 +648,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withPwrPeriodEnable(Long pwrPeriodEnable) {
 		this.pwrPeriodEnable = pwrPeriodEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -640,6 +670,7 @@ public class SystemParameters {
 	 */
 	public void  setPwrRepDelay(Long pwrRepDelay) {
 		this.pwrRepDelay = pwrRepDelay;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -651,6 +682,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withPwrRepDelay(Long pwrRepDelay) {
 		this.pwrRepDelay = pwrRepDelay;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -672,6 +704,7 @@ public class SystemParameters {
 	 */
 	public void  setRescan(Long rescan) {
 		this.rescan = rescan;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -683,6 +716,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withRescan(Long rescan) {
 		this.rescan = rescan;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -704,6 +738,7 @@ public class SystemParameters {
 	 */
 	public void  setTadd(Long tadd) {
 		this.tadd = tadd;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -715,6 +750,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withTadd(Long tadd) {
 		this.tadd = tadd;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -736,6 +772,7 @@ public class SystemParameters {
 	 */
 	public void  setTdrop(Long tdrop) {
 		this.tdrop = tdrop;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -747,6 +784,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withTdrop(Long tdrop) {
 		this.tdrop = tdrop;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -768,6 +806,7 @@ public class SystemParameters {
 	 */
 	public void  setTcomp(Long tcomp) {
 		this.tcomp = tcomp;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -779,6 +818,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withTcomp(Long tcomp) {
 		this.tcomp = tcomp;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -800,6 +840,7 @@ public class SystemParameters {
 	 */
 	public void  setTtdrop(Long ttdrop) {
 		this.ttdrop = ttdrop;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -811,6 +852,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withTtdrop(Long ttdrop) {
 		this.ttdrop = ttdrop;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -832,6 +874,7 @@ public class SystemParameters {
 	 */
 	public void  setIntrafficTadd(Long intrafficTadd) {
 		this.intrafficTadd = intrafficTadd;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -843,6 +886,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withIntrafficTadd(Long intrafficTadd) {
 		this.intrafficTadd = intrafficTadd;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -864,6 +908,7 @@ public class SystemParameters {
 	 */
 	public void  setIntrafficTdrop(Long intrafficTdrop) {
 		this.intrafficTdrop = intrafficTdrop;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -875,6 +920,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withIntrafficTdrop(Long intrafficTdrop) {
 		this.intrafficTdrop = intrafficTdrop;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -896,6 +942,7 @@ public class SystemParameters {
 	 */
 	public void  setIntrafficTcomp(Long intrafficTcomp) {
 		this.intrafficTcomp = intrafficTcomp;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -907,6 +954,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withIntrafficTcomp(Long intrafficTcomp) {
 		this.intrafficTcomp = intrafficTcomp;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -928,6 +976,7 @@ public class SystemParameters {
 	 */
 	public void  setIntrafficTtdrop(Long intrafficTtdrop) {
 		this.intrafficTtdrop = intrafficTtdrop;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -939,6 +988,7 @@ public class SystemParameters {
 	 */
 	public SystemParameters withIntrafficTtdrop(Long intrafficTtdrop) {
 		this.intrafficTtdrop = intrafficTtdrop;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
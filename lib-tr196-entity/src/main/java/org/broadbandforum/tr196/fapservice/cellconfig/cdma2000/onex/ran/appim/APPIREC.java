@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object can be configured only if {{param|.Capabilities.CDMA2000.OneX.FemtoOverheadMessagesCapable}} is set to {{true}}.
@@ -171,6 +173,16 @@ public class APPIREC {
 	@CWMPParameter(access = "readWrite")
 	public byte[] appNREC;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public APPIREC() {
 	}
 
@@ -193,6 +205,7 @@ public class APPIREC {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -204,6 +217,7 @@ public class APPIREC {
 	 */
 	public APPIREC withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -225,6 +239,8 @@ public class APPIREC {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -236,6 +252,8 @@ public class APPIREC {
 	 */
 	public APPIREC withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -257,6 +275,7 @@ public class APPIREC {
 	 */
 	public void  setApaSSNTYPE(Long apaSSNTYPE) {
 		this.apaSSNTYPE = apaSSNTYPE;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -268,6 +287,7 @@ public class APPIREC {
 	 */
 	public APPIREC withApaSSNTYPE(Long apaSSNTYPE) {
 		this.apaSSNTYPE = apaSSNTYPE;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -289,6 +309,7 @@ public class APPIREC {
 	 */
 	public void  setApsIDSAMEASPREVIOUS(Long apsIDSAMEASPREVIOUS) {
 		this.apsIDSAMEASPREVIOUS = apsIDSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -300,6 +321,7 @@ public class APPIREC {
 	 */
 	public APPIREC withApsIDSAMEASPREVIOUS(Long apsIDSAMEASPREVIOUS) {
 		this.apsIDSAMEASPREVIOUS = apsIDSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -321,6 +343,7 @@ public class APPIREC {
 	 */
 	public void  setApnIDSAMEASPREVIOUS(Long apnIDSAMEASPREVIOUS) {
 		this.apnIDSAMEASPREVIOUS = apnIDSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -332,6 +355,7 @@ public class APPIREC {
 	 */
 	public APPIREC withApnIDSAMEASPREVIOUS(Long apnIDSAMEASPREVIOUS) {
 		this.apnIDSAMEASPREVIOUS = apnIDSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -353,6 +377,7 @@ public class APPIREC {
 	 */
 	public void  setApbANDSAMEASPREVIOUS(Long apbANDSAMEASPREVIOUS) {
 		this.apbANDSAMEASPREVIOUS = apbANDSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -364,6 +389,7 @@ public class APPIREC {
 	 */
 	public APPIREC withApbANDSAMEASPREVIOUS(Long apbANDSAMEASPREVIOUS) {
 		this.apbANDSAMEASPREVIOUS = apbANDSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -385,6 +411,7 @@ public class APPIREC {
 	 */
 	public void  setApfREQSAMEASPREVIOUS(Long apfREQSAMEASPREVIOUS) {
 		this.apfREQSAMEASPREVIOUS = apfREQSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -396,6 +423,7 @@ public class APPIREC {
 	 */
 	public APPIREC withApfREQSAMEASPREVIOUS(Long apfREQSAMEASPREVIOUS) {
 		this.apfREQSAMEASPREVIOUS = apfREQSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -417,6 +445,7 @@ public class APPIREC {
 	 */
 	public void  setAppNRECSAMEASPREVIOUS(Long appNRECSAMEASPREVIOUS) {
 		this.appNRECSAMEASPREVIOUS = appNRECSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -428,6 +457,7 @@ public class APPIREC {
 	 */
 	public APPIREC withAppNRECSAMEASPREVIOUS(Long appNRECSAMEASPREVIOUS) {
 		this.appNRECSAMEASPREVIOUS = appNRECSAMEASPREVIOUS;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -449,6 +479,8 @@ public class APPIREC {
 	 */
 	public void  setApsID(Long apsID) {
 		this.apsID = apsID;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -460,6 +492,8 @@ public class APPIREC {
 	 */
 	public APPIREC withApsID(Long apsID) {
 		this.apsID = apsID;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -481,6 +515,8 @@ public class APPIREC {
 	 */
 	public void  setApnID(Long apnID) {
 		this.apnID = apnID;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -492,6 +528,8 @@ public class APPIREC {
 	 */
 	public APPIREC withApnID(Long apnID) {
 		this.apnID = apnID;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -513,6 +551,8 @@ public class APPIREC {
 	 */
 	public void  setApbAND(Long apbAND) {
 		this.apbAND = apbAND;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -524,6 +564,8 @@ public class APPIREC {
 	 */
 	public APPIREC withApbAND(Long apbAND) {
 		this.apbAND = apbAND;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -545,6 +587,8 @@ public class APPIREC {
 	 */
 	public void  setApfREQ(Long apfREQ) {
 		this.apfREQ = apfREQ;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -556,6 +600,8 @@ public class APPIREC {
 	 */
 	public APPIREC withApfREQ(Long apfREQ) {
 		this.apfREQ = apfREQ;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -577,6 +623,8 @@ public class APPIREC {
 	 */
 	public void  setAppNRECTYPE(Long appNRECTYPE) {
 		this.appNRECTYPE = appNRECTYPE;
+		if (this.dirty != null){ this.dirty.set(12);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -588,6 +636,8 @@ public class APPIREC {
 	 */
 	public APPIREC withAppNRECTYPE(Long appNRECTYPE) {
 		this.appNRECTYPE = appNRECTYPE;
+		if (this.dirty != null){ this.dirty.set(12);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -609,6 +659,8 @@ public class APPIREC {
 	 */
 	public void  setAppNRECLEN(Long appNRECLEN) {
 		this.appNRECLEN = appNRECLEN;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -620,6 +672,8 @@ public class APPIREC {
 	 */
 	public APPIREC withAppNRECLEN(Long appNRECLEN) {
 		this.appNRECLEN = appNRECLEN;
+		if (this.dirty != null){ this.dirty.set(13);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -641,6 +695,8 @@ public class APPIREC {
 	 */
 	public void  setAppNREC(byte[] appNREC) {
 		this.appNREC = appNREC;
+		if (this.dirty != null){ this.dirty.set(14);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -652,6 +708,8 @@ public class APPIREC {
 	 */
 	public APPIREC withAppNREC(byte[] appNREC) {
 		this.appNREC = appNREC;
+		if (this.dirty != null){ this.dirty.set(14);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
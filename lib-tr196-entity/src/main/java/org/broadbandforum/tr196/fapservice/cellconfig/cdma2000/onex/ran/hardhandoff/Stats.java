@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains statistics for all Handouts of the 1x FAP.
@@ -162,6 +163,11 @@ public class Stats {
 	@Size(min = 0, max = -1)
 	public Long threePilotReportCount;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -184,6 +190,7 @@ public class Stats {
 	 */
 	public void  setTxhORequired(Long txhORequired) {
 		this.txhORequired = txhORequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -195,6 +202,7 @@ public class Stats {
 	 */
 	public Stats withTxhORequired(Long txhORequired) {
 		this.txhORequired = txhORequired;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -216,6 +224,7 @@ public class Stats {
 	 */
 	public void  setRxhOCommand(Long rxhOCommand) {
 		this.rxhOCommand = rxhOCommand;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -227,6 +236,7 @@ public class Stats {
 	 */
 	public Stats withRxhOCommand(Long rxhOCommand) {
 		this.rxhOCommand = rxhOCommand;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -248,6 +258,7 @@ public class Stats {
 	 */
 	public void  setHorequiredRejected(Long horequiredRejected) {
 		this.horequiredRejected = horequiredRejected;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -259,6 +270,7 @@ public class Stats {
 	 */
 	public Stats withHorequiredRejected(Long horequiredRejected) {
 		this.horequiredRejected = horequiredRejected;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -280,6 +292,7 @@ public class Stats {
 	 */
 	public void  setHorequiredUnanswered(Long horequiredUnanswered) {
 		this.horequiredUnanswered = horequiredUnanswered;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -291,6 +304,7 @@ public class Stats {
 	 */
 	public Stats withHorequiredUnanswered(Long horequiredUnanswered) {
 		this.horequiredUnanswered = horequiredUnanswered;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -312,6 +326,7 @@ public class Stats {
 	 */
 	public void  setTxuHDM(Long txuHDM) {
 		this.txuHDM = txuHDM;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -323,6 +338,7 @@ public class Stats {
 	 */
 	public Stats withTxuHDM(Long txuHDM) {
 		this.txuHDM = txuHDM;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -344,6 +360,7 @@ public class Stats {
 	 */
 	public void  setRxnSAck(Long rxnSAck) {
 		this.rxnSAck = rxnSAck;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -355,6 +372,7 @@ public class Stats {
 	 */
 	public Stats withRxnSAck(Long rxnSAck) {
 		this.rxnSAck = rxnSAck;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -376,6 +394,7 @@ public class Stats {
 	 */
 	public void  setHofailureCount(Long hofailureCount) {
 		this.hofailureCount = hofailureCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -387,6 +406,7 @@ public class Stats {
 	 */
 	public Stats withHofailureCount(Long hofailureCount) {
 		this.hofailureCount = hofailureCount;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -408,6 +428,7 @@ public class Stats {
 	 */
 	public void  setCallDropCount(Long callDropCount) {
 		this.callDropCount = callDropCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -419,6 +440,7 @@ public class Stats {
 	 */
 	public Stats withCallDropCount(Long callDropCount) {
 		this.callDropCount = callDropCount;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -440,6 +462,7 @@ public class Stats {
 	 */
 	public void  setTxhOCommence(Long txhOCommence) {
 		this.txhOCommence = txhOCommence;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -451,6 +474,7 @@ public class Stats {
 	 */
 	public Stats withTxhOCommence(Long txhOCommence) {
 		this.txhOCommence = txhOCommence;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -472,6 +496,7 @@ public class Stats {
 	 */
 	public void  setRxhOSessionClear(Long rxhOSessionClear) {
 		this.rxhOSessionClear = rxhOSessionClear;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -483,6 +508,7 @@ public class Stats {
 	 */
 	public Stats withRxhOSessionClear(Long rxhOSessionClear) {
 		this.rxhOSessionClear = rxhOSessionClear;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -504,6 +530,7 @@ public class Stats {
 	 */
 	public void  setReturnOnFailureCount(Long returnOnFailureCount) {
 		this.returnOnFailureCount = returnOnFailureCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -515,6 +542,7 @@ public class Stats {
 	 */
 	public Stats withReturnOnFailureCount(Long returnOnFailureCount) {
 		this.returnOnFailureCount = returnOnFailureCount;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -536,6 +564,7 @@ public class Stats {
 	 */
 	public void  setOnePilotReportCount(Long onePilotReportCount) {
 		this.onePilotReportCount = onePilotReportCount;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -547,6 +576,7 @@ public class Stats {
 	 */
 	public Stats withOnePilotReportCount(Long onePilotReportCount) {
 		this.onePilotReportCount = onePilotReportCount;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -568,6 +598,7 @@ public class Stats {
 	 */
 	public void  setTwoPilotReportCount(Long twoPilotReportCount) {
 		this.twoPilotReportCount = twoPilotReportCount;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -579,6 +610,7 @@ public class Stats {
 	 */
 	public Stats withTwoPilotReportCount(Long twoPilotReportCount) {
 		this.twoPilotReportCount = twoPilotReportCount;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -600,6 +632,7 @@ public class Stats {
 	 */
 	public void  setThreePilotReportCount(Long threePilotReportCount) {
 		this.threePilotReportCount = threePilotReportCount;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -611,6 +644,7 @@ public class Stats {
 	 */
 	public Stats withThreePilotReportCount(Long threePilotReportCount) {
 		this.threePilotReportCount = threePilotReportCount;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.epc.HO;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.epc.PLMNList;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.epc.QoS;
@@ -118,6 +121,11 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	@XmlElement(name = "HO")
 	public HO ho;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public EPC() {
 	}
 
@@ -135,6 +143,19 @@ Enumerated value must be one of [EEA0, 128-EEA1, 128-EEA2]
 		return allowedCipheringAlgorithmList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a ciphering algorithm allowed to be used for RRC and UP confidentiality protection as defined in {{bibref|3GPP-TS.33.401}}. If the list contains more than 1 item, it is in the order of the preferred algorithm to be used. 
+
+Enumerated value must be one of [EEA0, 128-EEA1, 128-EEA2]
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAllowedCipheringAlgorithmList() {
+		return allowedCipheringAlgorithmList == null ? Collections.emptyList() : allowedCipheringAlgorithmList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a ciphering algorithm allowed to be used for RRC and UP confidentiality protection as defined in {{bibref|3GPP-TS.33.401}}. If the list contains more than 1 item, it is in the order of the preferred algorithm to be used. 
 
@@ -145,6 +166,7 @@ Enumerated value must be one of [EEA0, 128-EEA1, 128-EEA2]
 	 */
 	public void  setAllowedCipheringAlgorithmList(Collection<String> allowedCipheringAlgorithmList) {
 		this.allowedCipheringAlgorithmList = allowedCipheringAlgorithmList;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -158,6 +180,7 @@ Enumerated value must be one of [EEA0, 128-EEA1, 128-EEA2]
 	 */
 	public EPC withAllowedCipheringAlgorithmList(String string) {
 		getAllowedCipheringAlgorithmList().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -174,6 +197,19 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 		return allowedIntegrityProtectionAlgorithmList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a integrity protection algorithm allowed to be used for RRC as defined in {{bibref|3GPP-TS.33.401}}. If the list contains more than 1 item, it is in the order of the preferred algorithm to be used. 
+
+Enumerated value must be one of [128-EIA1, 128-EIA2]
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAllowedIntegrityProtectionAlgorithmList() {
+		return allowedIntegrityProtectionAlgorithmList == null ? Collections.emptyList() : allowedIntegrityProtectionAlgorithmList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a integrity protection algorithm allowed to be used for RRC as defined in {{bibref|3GPP-TS.33.401}}. If the list contains more than 1 item, it is in the order of the preferred algorithm to be used. 
 
@@ -184,6 +220,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public void  setAllowedIntegrityProtectionAlgorithmList(Collection<String> allowedIntegrityProtectionAlgorithmList) {
 		this.allowedIntegrityProtectionAlgorithmList = allowedIntegrityProtectionAlgorithmList;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -197,6 +234,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public EPC withAllowedIntegrityProtectionAlgorithmList(String string) {
 		getAllowedIntegrityProtectionAlgorithmList().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -218,6 +256,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public void  setTac(Long tac) {
 		this.tac = tac;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +268,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public EPC withTac(Long tac) {
 		this.tac = tac;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -250,6 +290,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public void  setEaiD(Long eaiD) {
 		this.eaiD = eaiD;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +302,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public EPC withEaiD(Long eaiD) {
 		this.eaiD = eaiD;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +324,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public void  setMaxPLMNListEntries(Long maxPLMNListEntries) {
 		this.maxPLMNListEntries = maxPLMNListEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +336,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public EPC withMaxPLMNListEntries(Long maxPLMNListEntries) {
 		this.maxPLMNListEntries = maxPLMNListEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +358,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public void  setMaxQoSEntries(Long maxQoSEntries) {
 		this.maxQoSEntries = maxQoSEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +370,7 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 */
 	public EPC withMaxQoSEntries(Long maxQoSEntries) {
 		this.maxQoSEntries = maxQoSEntries;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -334,10 +380,20 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 * @return the value
 	 */
 	public Collection<PLMNList> getPlmNLists() {
-		if (this.plmNLists == null){ this.plmNLists=new ArrayList<>();}
+		if (!(this.plmNLists instanceof InstanceTable)){ this.plmNLists=InstanceTable.of(this.plmNLists);}
 		return plmNLists;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to list of PLMN identity specific to LTE EPC definition, called PLMN-IdentityList, as specified in SystemInformationBlockType1 message in {{bibref|3GPP-TS.36.331|Section 6.2.2}}. Each instance in this object is a PLMN-IdentityInfo which consists of plmn-Identity and cellReservedForOperatorUse IEs.  At minimum 1 item MUST be present in this list, and maximum of 6 items.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PLMNList> viewPlmNLists() {
+		return plmNLists == null ? Collections.emptyList() : plmNLists;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to list of PLMN identity specific to LTE EPC definition, called PLMN-IdentityList, as specified in SystemInformationBlockType1 message in {{bibref|3GPP-TS.36.331|Section 6.2.2}}. Each instance in this object is a PLMN-IdentityInfo which consists of plmn-Identity and cellReservedForOperatorUse IEs.  At minimum 1 item MUST be present in this list, and maximum of 6 items.
 	 *
@@ -364,10 +420,20 @@ Enumerated value must be one of [128-EIA1, 128-EIA2]
 	 * @return the value
 	 */
 	public Collection<QoS> getQoss() {
-		if (this.qoss == null){ this.qoss=new ArrayList<>();}
+		if (!(this.qoss instanceof InstanceTable)){ this.qoss=InstanceTable.of(this.qoss);}
 		return qoss;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to configuring QoS in LTE EPC.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<QoS> viewQoss() {
+		return qoss == null ? Collections.emptyList() : qoss;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to configuring QoS in LTE EPC.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.lte;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.energysavings.ActivationCandidateCellsLoad;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.energysavings.DeactivationCandidateCellsLoad;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.energysavings.NotAllowedTimePeriod;
@@ -77,6 +79,11 @@ This object is valid on the specified day(s) and time of every week.
 	@CWMPParameter(access = "readWrite")
 	public Collection<NotAllowedTimePeriod> notAllowedTimePeriods;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public EnergySavings() {
 	}
 
@@ -99,6 +106,7 @@ This object is valid on the specified day(s) and time of every week.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +118,7 @@ This object is valid on the specified day(s) and time of every week.
 	 */
 	public EnergySavings withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +140,7 @@ This object is valid on the specified day(s) and time of every week.
 	 */
 	public void  setState(String state) {
 		this.state = state;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -142,6 +152,7 @@ This object is valid on the specified day(s) and time of every week.
 	 */
 	public EnergySavings withState(String state) {
 		this.state = state;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -213,10 +224,24 @@ This object is valid on the specified day(s) and time of every week.
 	 * @return the value
 	 */
 	public Collection<NotAllowedTimePeriod> getNotAllowedTimePeriods() {
-		if (this.notAllowedTimePeriods == null){ this.notAllowedTimePeriods=new ArrayList<>();}
+		if (!(this.notAllowedTimePeriods instanceof InstanceTable)){ this.notAllowedTimePeriods=InstanceTable.of(this.notAllowedTimePeriods);}
 		return notAllowedTimePeriods;
 	}
 
+	/**
+	 * Read the this object provides a time period for which energy saving is not allowed.
+
+This object can be used to prevent a cell entering energy saving state. 
+
+This object is valid on the specified day(s) and time of every week.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<NotAllowedTimePeriod> viewNotAllowedTimePeriods() {
+		return notAllowedTimePeriods == null ? Collections.emptyList() : notAllowedTimePeriods;
+	}
+
 	/**
 	 * Set the this object provides a time period for which energy saving is not allowed.
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains a table of all tunnel instances configured for the LTE FAP.
@@ -86,6 +89,16 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 	@XmlList
 	public Collection<String> plmNID;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Tunnel() {
 	}
 
@@ -108,6 +121,7 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +133,7 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 	 */
 	public Tunnel withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -140,6 +155,8 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -151,6 +168,8 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 	 */
 	public Tunnel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -188,6 +207,8 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	 */
 	public void  setTunnelRef(String tunnelRef) {
 		this.tunnelRef = tunnelRef;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -207,6 +228,8 @@ In case of a multiple-radio-technology FAP product, each radio technology can ha
 	 */
 	public Tunnel withTunnelRef(String tunnelRef) {
 		this.tunnelRef = tunnelRef;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -223,6 +246,19 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 		return plmNID;
 	}
 
+	/**
+	 * Read the {{list}} Optional list of PLMM IDs associated with the tunnel, which can be used for selecting the tunnel.
+
+Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC) {{bibref|3GPP-TS.23.003}}, {{bibref|3GPP-TS.24.008}}.  Mobile Country Code consists of three digits and uniquely identifies the country of domicile of the subscriber. Mobile Network Code consists of two or three digits and identifies the Home PLMN within a country.  For a 2-digit MNC the total string length of {{param}} is 5.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPlmNID() {
+		return plmNID == null ? Collections.emptyList() : plmNID;
+	}
+
 	/**
 	 * Set the {{list}} Optional list of PLMM IDs associated with the tunnel, which can be used for selecting the tunnel.
 
@@ -233,6 +269,7 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 	 */
 	public void  setPlmNID(Collection<String> plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -246,6 +283,7 @@ Each PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC)
 	 */
 	public Tunnel withPlmNID(String string) {
 		getPlmNID().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is relevant if the cell acts as a candidate cell. This object indicates the traffic load threshold and the time duration, which are used by distributed energy saving algorithms to allow an ‘original’ cell to enter the energy saving state. Threshold and TimeDuration are applied to the candidate cell(s) which provide coverage backup of an original cell when it is in the energy saving state.
@@ -53,6 +54,11 @@ public class ActivationCandidateCellsLoad {
 	@CWMPParameter(access = "readWrite", units = "seconds")
 	public Long timeDuration;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ActivationCandidateCellsLoad() {
 	}
 
@@ -75,6 +81,7 @@ public class ActivationCandidateCellsLoad {
 	 */
 	public void  setThreshold(Long threshold) {
 		this.threshold = threshold;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -86,6 +93,7 @@ public class ActivationCandidateCellsLoad {
 	 */
 	public ActivationCandidateCellsLoad withThreshold(Long threshold) {
 		this.threshold = threshold;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -107,6 +115,7 @@ public class ActivationCandidateCellsLoad {
 	 */
 	public void  setTimeDuration(Long timeDuration) {
 		this.timeDuration = timeDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -118,6 +127,7 @@ public class ActivationCandidateCellsLoad {
 	 */
 	public ActivationCandidateCellsLoad withTimeDuration(Long timeDuration) {
 		this.timeDuration = timeDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
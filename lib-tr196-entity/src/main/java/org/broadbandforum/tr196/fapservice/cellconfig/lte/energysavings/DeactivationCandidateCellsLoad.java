@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is relevant if the cell acts as a candidate cell. This object indicates the traffic load threshold and the time duration which is used by distributed energy saving algorithms to allow a cell to leave the energy saving state. Threshold and time duration are applied to the candidate cell when it provides coverage backup for the cell in energy saving state.
@@ -53,6 +54,11 @@ public class DeactivationCandidateCellsLoad {
 	@CWMPParameter(access = "readWrite", units = "seconds")
 	public Long timeDuration;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DeactivationCandidateCellsLoad() {
 	}
 
@@ -75,6 +81,7 @@ public class DeactivationCandidateCellsLoad {
 	 */
 	public void  setThreshold(Long threshold) {
 		this.threshold = threshold;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -86,6 +93,7 @@ public class DeactivationCandidateCellsLoad {
 	 */
 	public DeactivationCandidateCellsLoad withThreshold(Long threshold) {
 		this.threshold = threshold;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -107,6 +115,7 @@ public class DeactivationCandidateCellsLoad {
 	 */
 	public void  setTimeDuration(Long timeDuration) {
 		this.timeDuration = timeDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -118,6 +127,7 @@ public class DeactivationCandidateCellsLoad {
 	 */
 	public DeactivationCandidateCellsLoad withTimeDuration(Long timeDuration) {
 		this.timeDuration = timeDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides a time period for which energy saving is not allowed.
@@ -71,6 +72,11 @@ public class NotAllowedTimePeriod {
 	@CWMPParameter(access = "readWrite")
 	public String daysOfWeek;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NotAllowedTimePeriod() {
 	}
 
@@ -93,6 +99,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -104,6 +111,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public NotAllowedTimePeriod withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -125,6 +133,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public void  setStartTime(String startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -136,6 +145,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public NotAllowedTimePeriod withStartTime(String startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -157,6 +167,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public void  setEndTime(String endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -168,6 +179,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public NotAllowedTimePeriod withEndTime(String endTime) {
 		this.endTime = endTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -189,6 +201,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public void  setDaysOfWeek(String daysOfWeek) {
 		this.daysOfWeek = daysOfWeek;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -200,6 +213,7 @@ public class NotAllowedTimePeriod {
 	 */
 	public NotAllowedTimePeriod withDaysOfWeek(String daysOfWeek) {
 		this.daysOfWeek = daysOfWeek;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to list of PLMN identity specific to LTE EPC definition, called PLMN-IdentityList, as specified in SystemInformationBlockType1 message in {{bibref|3GPP-TS.36.331|Section 6.2.2}}. Each instance in this object is a PLMN-IdentityInfo which consists of plmn-Identity and cellReservedForOperatorUse IEs.  At minimum 1 item MUST be present in this list, and maximum of 6 items.
@@ -82,6 +84,16 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	@CWMPParameter(access = "readWrite")
 	public Boolean cellReservedForOperatorUse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PLMNList() {
 	}
 
@@ -104,6 +116,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -115,6 +128,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public PLMNList withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -136,6 +150,8 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -147,6 +163,8 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public PLMNList withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -168,6 +186,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public void  setIsprimary(Boolean isprimary) {
 		this.isprimary = isprimary;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -179,6 +198,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public PLMNList withIsprimary(Boolean isprimary) {
 		this.isprimary = isprimary;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -204,6 +224,8 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -217,6 +239,8 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public PLMNList withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -238,6 +262,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public void  setCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -249,6 +274,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public PLMNList withCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
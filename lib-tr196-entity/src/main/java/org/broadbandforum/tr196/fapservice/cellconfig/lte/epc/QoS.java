@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to configuring QoS in LTE EPC.
@@ -90,6 +92,16 @@ public class QoS {
 	@Size(min = 2000, max = 2000)
 	public Long packetDelayBudget = 50L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public QoS() {
 	}
 
@@ -112,6 +124,7 @@ public class QoS {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -123,6 +136,7 @@ public class QoS {
 	 */
 	public QoS withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -144,6 +158,8 @@ public class QoS {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -155,6 +171,8 @@ public class QoS {
 	 */
 	public QoS withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -176,6 +194,8 @@ public class QoS {
 	 */
 	public void  setQci(Long qci) {
 		this.qci = qci;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -187,6 +207,8 @@ public class QoS {
 	 */
 	public QoS withQci(Long qci) {
 		this.qci = qci;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -208,6 +230,7 @@ public class QoS {
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -219,6 +242,7 @@ public class QoS {
 	 */
 	public QoS withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -240,6 +264,7 @@ public class QoS {
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -251,6 +276,7 @@ public class QoS {
 	 */
 	public QoS withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -272,6 +298,7 @@ public class QoS {
 	 */
 	public void  setPacketDelayBudget(Long packetDelayBudget) {
 		this.packetDelayBudget = packetDelayBudget;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -283,6 +310,7 @@ public class QoS {
 	 */
 	public QoS withPacketDelayBudget(Long packetDelayBudget) {
 		this.packetDelayBudget = packetDelayBudget;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
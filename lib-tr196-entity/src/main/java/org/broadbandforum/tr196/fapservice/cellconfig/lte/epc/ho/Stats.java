@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.epc.ho;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the HO statistics as defined in {{bibref|3GPP-TS.32.453}}.
@@ -170,6 +172,11 @@ public class Stats {
 	@XmlList
 	public Collection<String> togeranFail;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -187,6 +194,19 @@ public class Stats {
 		return toeNBAtt;
 	}
 
+	/**
+	 * Read the this measurement provides the number of attempted outbound handover to HeNB by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewToeNBAtt() {
+		return toeNBAtt == null ? Collections.emptyList() : toeNBAtt;
+	}
+
 	/**
 	 * Set the this measurement provides the number of attempted outbound handover to HeNB by handover cause.
 
@@ -197,6 +217,7 @@ public class Stats {
 	 */
 	public void  setToeNBAtt(Collection<String> toeNBAtt) {
 		this.toeNBAtt = toeNBAtt;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -210,6 +231,7 @@ public class Stats {
 	 */
 	public Stats withToeNBAtt(String string) {
 		getToeNBAtt().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -226,6 +248,19 @@ public class Stats {
 		return toeNBSucc;
 	}
 
+	/**
+	 * Read the this measurement provides the number of successful outbound handover to HeNB by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewToeNBSucc() {
+		return toeNBSucc == null ? Collections.emptyList() : toeNBSucc;
+	}
+
 	/**
 	 * Set the this measurement provides the number of successful outbound handover to HeNB by handover cause.
 
@@ -236,6 +271,7 @@ public class Stats {
 	 */
 	public void  setToeNBSucc(Collection<String> toeNBSucc) {
 		this.toeNBSucc = toeNBSucc;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -249,6 +285,7 @@ public class Stats {
 	 */
 	public Stats withToeNBSucc(String string) {
 		getToeNBSucc().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -265,6 +302,19 @@ public class Stats {
 		return toeNBFail;
 	}
 
+	/**
+	 * Read the this measurement provides the number of failed outbound handover to HeNB by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewToeNBFail() {
+		return toeNBFail == null ? Collections.emptyList() : toeNBFail;
+	}
+
 	/**
 	 * Set the this measurement provides the number of failed outbound handover to HeNB by handover cause.
 
@@ -275,6 +325,7 @@ public class Stats {
 	 */
 	public void  setToeNBFail(Collection<String> toeNBFail) {
 		this.toeNBFail = toeNBFail;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -288,6 +339,7 @@ public class Stats {
 	 */
 	public Stats withToeNBFail(String string) {
 		getToeNBFail().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -304,6 +356,19 @@ public class Stats {
 		return fromeNBAtt;
 	}
 
+	/**
+	 * Read the this measurement provides the number of attempted inbound handover from HeNB by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFromeNBAtt() {
+		return fromeNBAtt == null ? Collections.emptyList() : fromeNBAtt;
+	}
+
 	/**
 	 * Set the this measurement provides the number of attempted inbound handover from HeNB by handover cause.
 
@@ -314,6 +379,7 @@ public class Stats {
 	 */
 	public void  setFromeNBAtt(Collection<String> fromeNBAtt) {
 		this.fromeNBAtt = fromeNBAtt;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -327,6 +393,7 @@ public class Stats {
 	 */
 	public Stats withFromeNBAtt(String string) {
 		getFromeNBAtt().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -343,6 +410,19 @@ public class Stats {
 		return fromeNBSucc;
 	}
 
+	/**
+	 * Read the this measurement provides the number of successful inbound handover from HeNB by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFromeNBSucc() {
+		return fromeNBSucc == null ? Collections.emptyList() : fromeNBSucc;
+	}
+
 	/**
 	 * Set the this measurement provides the number of successful inbound handover from HeNB by handover cause.
 
@@ -353,6 +433,7 @@ public class Stats {
 	 */
 	public void  setFromeNBSucc(Collection<String> fromeNBSucc) {
 		this.fromeNBSucc = fromeNBSucc;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -366,6 +447,7 @@ public class Stats {
 	 */
 	public Stats withFromeNBSucc(String string) {
 		getFromeNBSucc().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -382,6 +464,19 @@ public class Stats {
 		return fromeNBFail;
 	}
 
+	/**
+	 * Read the this measurement provides the number of failed inbound handover from HeNB by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFromeNBFail() {
+		return fromeNBFail == null ? Collections.emptyList() : fromeNBFail;
+	}
+
 	/**
 	 * Set the this measurement provides the number of failed inbound handover from HeNB by handover cause.
 
@@ -392,6 +487,7 @@ public class Stats {
 	 */
 	public void  setFromeNBFail(Collection<String> fromeNBFail) {
 		this.fromeNBFail = fromeNBFail;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -405,6 +501,7 @@ public class Stats {
 	 */
 	public Stats withFromeNBFail(String string) {
 		getFromeNBFail().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -421,6 +518,19 @@ public class Stats {
 		return toutranAtt;
 	}
 
+	/**
+	 * Read the this measurement provides the number of attempted outbound handover to Utran by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewToutranAtt() {
+		return toutranAtt == null ? Collections.emptyList() : toutranAtt;
+	}
+
 	/**
 	 * Set the this measurement provides the number of attempted outbound handover to Utran by handover cause.
 
@@ -431,6 +541,7 @@ public class Stats {
 	 */
 	public void  setToutranAtt(Collection<String> toutranAtt) {
 		this.toutranAtt = toutranAtt;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -444,6 +555,7 @@ public class Stats {
 	 */
 	public Stats withToutranAtt(String string) {
 		getToutranAtt().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -460,6 +572,19 @@ public class Stats {
 		return toutranSucc;
 	}
 
+	/**
+	 * Read the this measurement provides the number of successful outbound handover to Utran by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewToutranSucc() {
+		return toutranSucc == null ? Collections.emptyList() : toutranSucc;
+	}
+
 	/**
 	 * Set the this measurement provides the number of successful outbound handover to Utran by handover cause.
 
@@ -470,6 +595,7 @@ public class Stats {
 	 */
 	public void  setToutranSucc(Collection<String> toutranSucc) {
 		this.toutranSucc = toutranSucc;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -483,6 +609,7 @@ public class Stats {
 	 */
 	public Stats withToutranSucc(String string) {
 		getToutranSucc().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -499,6 +626,19 @@ public class Stats {
 		return toutranFail;
 	}
 
+	/**
+	 * Read the this measurement provides the number of failed outbound handover to Utran by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewToutranFail() {
+		return toutranFail == null ? Collections.emptyList() : toutranFail;
+	}
+
 	/**
 	 * Set the this measurement provides the number of failed outbound handover to Utran by handover cause.
 
@@ -509,6 +649,7 @@ public class Stats {
 	 */
 	public void  setToutranFail(Collection<String> toutranFail) {
 		this.toutranFail = toutranFail;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -522,6 +663,7 @@ public class Stats {
 	 */
 	public Stats withToutranFail(String string) {
 		getToutranFail().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -538,6 +680,19 @@ public class Stats {
 		return togeranAtt;
 	}
 
+	/**
+	 * Read the this measurement provides the number of attempted outbound handover to Geran by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTogeranAtt() {
+		return togeranAtt == null ? Collections.emptyList() : togeranAtt;
+	}
+
 	/**
 	 * Set the this measurement provides the number of attempted outbound handover to Geran by handover cause.
 
@@ -548,6 +703,7 @@ public class Stats {
 	 */
 	public void  setTogeranAtt(Collection<String> togeranAtt) {
 		this.togeranAtt = togeranAtt;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -561,6 +717,7 @@ public class Stats {
 	 */
 	public Stats withTogeranAtt(String string) {
 		getTogeranAtt().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -577,6 +734,19 @@ public class Stats {
 		return togeranSucc;
 	}
 
+	/**
+	 * Read the this measurement provides the number of successful outbound handover to Geran by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTogeranSucc() {
+		return togeranSucc == null ? Collections.emptyList() : togeranSucc;
+	}
+
 	/**
 	 * Set the this measurement provides the number of successful outbound handover to Geran by handover cause.
 
@@ -587,6 +757,7 @@ public class Stats {
 	 */
 	public void  setTogeranSucc(Collection<String> togeranSucc) {
 		this.togeranSucc = togeranSucc;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -600,6 +771,7 @@ public class Stats {
 	 */
 	public Stats withTogeranSucc(String string) {
 		getTogeranSucc().add(string);
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -616,6 +788,19 @@ public class Stats {
 		return togeranFail;
 	}
 
+	/**
+	 * Read the this measurement provides the number of failed outbound handover to Geran by handover cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTogeranFail() {
+		return togeranFail == null ? Collections.emptyList() : togeranFail;
+	}
+
 	/**
 	 * Set the this measurement provides the number of failed outbound handover to Geran by handover cause.
 
@@ -626,6 +811,7 @@ public class Stats {
 	 */
 	public void  setTogeranFail(Collection<String> togeranFail) {
 		this.togeranFail = togeranFail;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -639,6 +825,7 @@ public class Stats {
 	 */
 	public Stats withTogeranFail(String string) {
 		getTogeranFail().add(string);
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
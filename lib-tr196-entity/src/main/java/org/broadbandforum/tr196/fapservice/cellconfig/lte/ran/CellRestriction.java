@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the cell restriction configuration.
@@ -69,6 +70,11 @@ Corresponds to parameter ac-BarringForEmergency specified in SIB2 in {{bibref|3G
 	@CWMPParameter(access = "readWrite")
 	public Boolean barringForEmergency;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CellRestriction() {
 	}
 
@@ -95,6 +101,7 @@ Corresponds to parameter CellBarred specified in SIB1 in {{bibref|3GPP-TS.36.331
 	 */
 	public void  setCellBarred(Boolean cellBarred) {
 		this.cellBarred = cellBarred;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +115,7 @@ Corresponds to parameter CellBarred specified in SIB1 in {{bibref|3GPP-TS.36.331
 	 */
 	public CellRestriction withCellBarred(Boolean cellBarred) {
 		this.cellBarred = cellBarred;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +141,7 @@ Corresponds to parameter cellReservedForOperatorUse specified in SIB1 in {{bibre
 	 */
 	public void  setCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -146,6 +155,7 @@ Corresponds to parameter cellReservedForOperatorUse specified in SIB1 in {{bibre
 	 */
 	public CellRestriction withCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -179,6 +189,7 @@ Corresponds to parameter ac-BarringForEmergency specified in SIB2 in {{bibref|3G
 	 */
 	public void  setBarringForEmergency(Boolean barringForEmergency) {
 		this.barringForEmergency = barringForEmergency;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -196,6 +207,7 @@ Corresponds to parameter ac-BarringForEmergency specified in SIB2 in {{bibref|3G
 	 */
 	public CellRestriction withBarringForEmergency(Boolean barringForEmergency) {
 		this.barringForEmergency = barringForEmergency;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
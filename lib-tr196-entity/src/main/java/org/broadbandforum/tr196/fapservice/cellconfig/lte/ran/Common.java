@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the common configuration in LTE RAN.
@@ -45,6 +46,11 @@ public class Common {
 	@Size(min = 0, max = 268435455)
 	public Long cellIdentity;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Common() {
 	}
 
@@ -67,6 +73,7 @@ public class Common {
 	 */
 	public void  setCellIdentity(Long cellIdentity) {
 		this.cellIdentity = cellIdentity;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -78,6 +85,7 @@ public class Common {
 	 */
 	public Common withCellIdentity(Long cellIdentity) {
 		this.cellIdentity = cellIdentity;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlist.InterRATCell;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlist.LTECell;
 
@@ -59,6 +61,11 @@ public class NeighborList {
 	@XmlElement(name = "InterRATCell")
 	public InterRATCell interRATCell;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NeighborList() {
 	}
 
@@ -81,6 +88,7 @@ public class NeighborList {
 	 */
 	public void  setMaxLTECellEntries(Long maxLTECellEntries) {
 		this.maxLTECellEntries = maxLTECellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +100,7 @@ public class NeighborList {
 	 */
 	public NeighborList withMaxLTECellEntries(Long maxLTECellEntries) {
 		this.maxLTECellEntries = maxLTECellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -101,10 +110,20 @@ public class NeighborList {
 	 * @return the value
 	 */
 	public Collection<LTECell> getLteCells() {
-		if (this.lteCells == null){ this.lteCells=new ArrayList<>();}
+		if (!(this.lteCells instanceof InstanceTable)){ this.lteCells=InstanceTable.of(this.lteCells);}
 		return lteCells;
 	}
 
+	/**
+	 * Read the table containing the E-UTRA (i.e. intra-RAT) cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LTECell> viewLteCells() {
+		return lteCells == null ? Collections.emptyList() : lteCells;
+	}
+
 	/**
 	 * Set the table containing the E-UTRA (i.e. intra-RAT) cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlistinuse.InterRATCell;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlistinuse.LTECell;
 
@@ -57,6 +59,11 @@ public class NeighborListInUse {
 	@XmlElement(name = "InterRATCell")
 	public InterRATCell interRATCell;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NeighborListInUse() {
 	}
 
@@ -79,6 +86,7 @@ public class NeighborListInUse {
 	 */
 	public void  setMaxLTECellEntries(Long maxLTECellEntries) {
 		this.maxLTECellEntries = maxLTECellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -90,6 +98,7 @@ public class NeighborListInUse {
 	 */
 	public NeighborListInUse withMaxLTECellEntries(Long maxLTECellEntries) {
 		this.maxLTECellEntries = maxLTECellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -99,10 +108,20 @@ public class NeighborListInUse {
 	 * @return the value
 	 */
 	public Collection<LTECell> getLteCells() {
-		if (this.lteCells == null){ this.lteCells=new ArrayList<>();}
+		if (!(this.lteCells instanceof InstanceTable)){ this.lteCells=InstanceTable.of(this.lteCells);}
 		return lteCells;
 	}
 
+	/**
+	 * Read the table containing the LTE EUTRA (i.e. intra-RAT) cell list.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LTECell> viewLteCells() {
+		return lteCells == null ? Collections.emptyList() : lteCells;
+	}
+
 	/**
 	 * Set the table containing the LTE EUTRA (i.e. intra-RAT) cell list.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the RF, see {{bibref|3GPP-TS.32.592|Section 6.1.7.1}}.
@@ -162,6 +164,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@XmlList
 	public Collection<String> pbcHPowerOffset;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -188,6 +195,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setEarFCNDL(Long earFCNDL) {
 		this.earFCNDL = earFCNDL;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -201,6 +209,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public RF withEarFCNDL(Long earFCNDL) {
 		this.earFCNDL = earFCNDL;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -226,6 +235,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setEarFCNUL(Long earFCNUL) {
 		this.earFCNUL = earFCNUL;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -239,6 +249,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public RF withEarFCNUL(Long earFCNUL) {
 		this.earFCNUL = earFCNUL;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +271,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setFreqBandIndicator(Long freqBandIndicator) {
 		this.freqBandIndicator = freqBandIndicator;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -271,6 +283,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public RF withFreqBandIndicator(Long freqBandIndicator) {
 		this.freqBandIndicator = freqBandIndicator;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -296,6 +309,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setDlbandwidth(Long dlbandwidth) {
 		this.dlbandwidth = dlbandwidth;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -309,6 +323,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public RF withDlbandwidth(Long dlbandwidth) {
 		this.dlbandwidth = dlbandwidth;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -334,6 +349,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setUlbandwidth(Long ulbandwidth) {
 		this.ulbandwidth = ulbandwidth;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -347,6 +363,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public RF withUlbandwidth(Long ulbandwidth) {
 		this.ulbandwidth = ulbandwidth;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -365,6 +382,21 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 		return referenceSignalPower;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a downlink reference-signal transmit power, specified in dBm, with a numeric range between -60 and 50 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Defined as the linear average over the power contributions (in W) of all resource elements that carry cell-specific reference signals within the operating system bandwidth. Corresponds to parameter referenceSignalPower in PDSCH-Config IE in {{bibref|3GPP-TS.36.331|Section 6.3.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If LTE FAP supports self-configuration capability for {{param}} and more than one item is configured, then LTE FAP is expected to select one from the list and overwrite this parameter containing only the one selected.  If LTE FAP does not support self-configuration capability for {{param}} and more than one item is configured, then LTE FAP accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of LTE FAP, LTE FAP accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewReferenceSignalPower() {
+		return referenceSignalPower == null ? Collections.emptyList() : referenceSignalPower;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a downlink reference-signal transmit power, specified in dBm, with a numeric range between -60 and 50 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Defined as the linear average over the power contributions (in W) of all resource elements that carry cell-specific reference signals within the operating system bandwidth. Corresponds to parameter referenceSignalPower in PDSCH-Config IE in {{bibref|3GPP-TS.36.331|Section 6.3.2}}.
 
@@ -377,6 +409,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setReferenceSignalPower(Collection<String> referenceSignalPower) {
 		this.referenceSignalPower = referenceSignalPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -392,6 +425,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public RF withReferenceSignalPower(String string) {
 		getReferenceSignalPower().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -410,6 +444,21 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 		return phyCellID;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a physical cell ID with a numeric range between 0 and 503 inclusive. Represents the list of physical cell identities LTE FAP to choose from. In case there is more than one item in the list, the first item contains the most preferred value. As specified in {{bibref|3GPP-TS.36.211|Section 6.11}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If LTE FAP supports self-configuration capability for {{param}} and more than one item is configured, then LTE FAP is expected to select one from the list and overwrite this parameter containing only the one selected.  If LTE FAP does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPhyCellID() {
+		return phyCellID == null ? Collections.emptyList() : phyCellID;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a physical cell ID with a numeric range between 0 and 503 inclusive. Represents the list of physical cell identities LTE FAP to choose from. In case there is more than one item in the list, the first item contains the most preferred value. As specified in {{bibref|3GPP-TS.36.211|Section 6.11}}.
 
@@ -422,6 +471,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setPhyCellID(Collection<String> phyCellID) {
 		this.phyCellID = phyCellID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -437,6 +487,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public RF withPhyCellID(String string) {
 		getPhyCellID().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -455,6 +506,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return pscHPowerOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a power offset, specified in dB, of the Primary Synchronization Channel with respect to the ReferenceSignalPower, with a numeric range between -350 and 150 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPscHPowerOffset() {
+		return pscHPowerOffset == null ? Collections.emptyList() : pscHPowerOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a power offset, specified in dB, of the Primary Synchronization Channel with respect to the ReferenceSignalPower, with a numeric range between -350 and 150 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
 
@@ -467,6 +533,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPscHPowerOffset(Collection<String> pscHPowerOffset) {
 		this.pscHPowerOffset = pscHPowerOffset;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -482,6 +549,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RF withPscHPowerOffset(String string) {
 		getPscHPowerOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -500,6 +568,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return sscHPowerOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a power offset, specified in dB, of the Secondary Synchronization Channel with respect to the ReferenceSignalPower, with a numeric range between -350 and 150 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSscHPowerOffset() {
+		return sscHPowerOffset == null ? Collections.emptyList() : sscHPowerOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a power offset, specified in dB, of the Secondary Synchronization Channel with respect to the ReferenceSignalPower, with a numeric range between -350 and 150 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
 
@@ -512,6 +595,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setSscHPowerOffset(Collection<String> sscHPowerOffset) {
 		this.sscHPowerOffset = sscHPowerOffset;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -527,6 +611,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RF withSscHPowerOffset(String string) {
 		getSscHPowerOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -545,6 +630,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return pbcHPowerOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a power offset, specified in dB, of the Physical Broadcast Channel with respect to the ReferenceSignalPower, with a numeric range between -350 and 150 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPbcHPowerOffset() {
+		return pbcHPowerOffset == null ? Collections.emptyList() : pbcHPowerOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a power offset, specified in dB, of the Physical Broadcast Channel with respect to the ReferenceSignalPower, with a numeric range between -350 and 150 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
 
@@ -557,6 +657,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPbcHPowerOffset(Collection<String> pbcHPowerOffset) {
 		this.pbcHPowerOffset = pbcHPowerOffset;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -572,6 +673,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RF withPbcHPowerOffset(String string) {
 		getPbcHPowerOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the RRC timers and constants (see {{bibref|3GPP-TS.32.592|Section 6.1.6.1}}) and (see {{bibref|3GPP-TS.32.592|Section 6.1.6.2}}).
@@ -144,6 +145,11 @@ Corresponds to parameter n311 specified in UE-TimersAndConstants IE in {{bibref|
 	@Size(min = 10, max = 10)
 	public Long n311;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RRCTimers() {
 	}
 
@@ -170,6 +176,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setT300(Long t300) {
 		this.t300 = t300;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -183,6 +190,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RRCTimers withT300(Long t300) {
 		this.t300 = t300;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -208,6 +216,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setT301(Long t301) {
 		this.t301 = t301;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -221,6 +230,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RRCTimers withT301(Long t301) {
 		this.t301 = t301;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -242,6 +252,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setT302(Long t302) {
 		this.t302 = t302;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -253,6 +264,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RRCTimers withT302(Long t302) {
 		this.t302 = t302;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -278,6 +290,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setT304EUTRA(Long t304EUTRA) {
 		this.t304EUTRA = t304EUTRA;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -291,6 +304,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RRCTimers withT304EUTRA(Long t304EUTRA) {
 		this.t304EUTRA = t304EUTRA;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -316,6 +330,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setT304IRAT(Long t304IRAT) {
 		this.t304IRAT = t304IRAT;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -329,6 +344,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RRCTimers withT304IRAT(Long t304IRAT) {
 		this.t304IRAT = t304IRAT;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -354,6 +370,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setT310(Long t310) {
 		this.t310 = t310;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -367,6 +384,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RRCTimers withT310(Long t310) {
 		this.t310 = t310;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -392,6 +410,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setT311(Long t311) {
 		this.t311 = t311;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -405,6 +424,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RRCTimers withT311(Long t311) {
 		this.t311 = t311;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -430,6 +450,7 @@ Corresponds to parameter t320 specified in RRCConnectionRelease message in {{bib
 	 */
 	public void  setT320(Long t320) {
 		this.t320 = t320;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -443,6 +464,7 @@ Corresponds to parameter t320 specified in RRCConnectionRelease message in {{bib
 	 */
 	public RRCTimers withT320(Long t320) {
 		this.t320 = t320;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -468,6 +490,7 @@ Corresponds to parameter n310 specified in UE-TimersAndConstants IE in {{bibref|
 	 */
 	public void  setN310(Long n310) {
 		this.n310 = n310;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -481,6 +504,7 @@ Corresponds to parameter n310 specified in UE-TimersAndConstants IE in {{bibref|
 	 */
 	public RRCTimers withN310(Long n310) {
 		this.n310 = n310;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -506,6 +530,7 @@ Corresponds to parameter n311 specified in UE-TimersAndConstants IE in {{bibref|
 	 */
 	public void  setN311(Long n311) {
 		this.n311 = n311;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -519,6 +544,7 @@ Corresponds to parameter n311 specified in UE-TimersAndConstants IE in {{bibref|
 	 */
 	public RRCTimers withN311(Long n311) {
 		this.n311 = n311;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
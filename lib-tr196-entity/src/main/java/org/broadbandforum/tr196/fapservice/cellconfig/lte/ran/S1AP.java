@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the S1AP configuration.
@@ -71,6 +73,11 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	@XmlList
 	public Collection<String> trelocOverall;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public S1AP() {
 	}
 
@@ -92,6 +99,23 @@ If the LTE FAP supports self-configuration capability for {{param}} and more tha
 		return trelocPrep;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a maximum time for the Handover Preparation procedure in the source LTE FAP, specified in seconds, with a numeric range between 0 and 300 inclusive. Only values in multiple of 5 are valid; use of other values within the defined range MUST be rejected by the CPE. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
+
+The timer is started when the LTE FAP sends the HANDOVER REQUIRED message. Upon reception of the HANDOVER COMMAND message the LTE FAP shall stop the timer. Corresponds to parameter TS1RELOCprep defined in {{bibref|3GPP-TS.36.413|Section 8.4.1.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If the LTE FAP supports self-configuration capability for {{param}} and more than one item is configured, then the LTE FAP is expected to select one from the list and overwrite this parameter containing only the one selected.  If the LTE FAP does not support self-configuration capability for {{param}} and more than one item is configured, then the LTE FAP accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of LTE FAP, LTE FAP accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTrelocPrep() {
+		return trelocPrep == null ? Collections.emptyList() : trelocPrep;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a maximum time for the Handover Preparation procedure in the source LTE FAP, specified in seconds, with a numeric range between 0 and 300 inclusive. Only values in multiple of 5 are valid; use of other values within the defined range MUST be rejected by the CPE. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
 
@@ -106,6 +130,7 @@ If the LTE FAP supports self-configuration capability for {{param}} and more tha
 	 */
 	public void  setTrelocPrep(Collection<String> trelocPrep) {
 		this.trelocPrep = trelocPrep;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -123,6 +148,7 @@ If the LTE FAP supports self-configuration capability for {{param}} and more tha
 	 */
 	public S1AP withTrelocPrep(String string) {
 		getTrelocPrep().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +169,23 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 		return trelocOverall;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a maximum time for the protection of the overall handover procedure in the source LTE FAP, specified in seconds, with a numeric range between 0 and 300 inclusive. Only values in multiple of 5 are valid; use of other values within the defined range MUST be rejected by the CPE. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
+
+The timer is started reception of the HANDOVER COMMAND message. Corresponds to parameter TS1RELOCOverall defined in {{bibref|3GPP-TS.36.413|Section 8.4.1.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If LTE FAP supports self-configuration capability for {{param}} and more than one item is configured, then LTE FAP is expected to select one from the list and overwrite this parameter containing only the one selected.  If LTE FAP does not support self-configuration capability for {{param}} and more than one item is configured, then LTE FAP accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of LTE FAP, LTE FAP accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTrelocOverall() {
+		return trelocOverall == null ? Collections.emptyList() : trelocOverall;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a maximum time for the protection of the overall handover procedure in the source LTE FAP, specified in seconds, with a numeric range between 0 and 300 inclusive. Only values in multiple of 5 are valid; use of other values within the defined range MUST be rejected by the CPE. In case there is more than one item in the list, the first item contains the most preferred value. The value of {{param}} divided by 10 yields the actual value.
 
@@ -157,6 +200,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public void  setTrelocOverall(Collection<String> trelocOverall) {
 		this.trelocOverall = trelocOverall;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -174,6 +218,7 @@ If LTE FAP supports self-configuration capability for {{param}} and more than on
 	 */
 	public S1AP withTrelocOverall(String string) {
 		getTrelocOverall().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the S1-U configuration.
@@ -45,6 +46,11 @@ public class S1U {
 	@Size(min = 60)
 	public Long gtpUEchoInterval;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public S1U() {
 	}
 
@@ -67,6 +73,7 @@ public class S1U {
 	 */
 	public void  setGtpUEchoInterval(Long gtpUEchoInterval) {
 		this.gtpUEchoInterval = gtpUEchoInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -78,6 +85,7 @@ public class S1U {
 	 */
 	public S1U withGtpUEchoInterval(Long gtpUEchoInterval) {
 		this.gtpUEchoInterval = gtpUEchoInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
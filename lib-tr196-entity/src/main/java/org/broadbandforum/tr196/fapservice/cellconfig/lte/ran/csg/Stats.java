@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.csg;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the LTE RAN CSG statistics as defined in {{bibref|3GPP-TS.32.453}}.
@@ -73,6 +75,11 @@ public class Stats {
 	@XmlList
 	public Collection<String> failedInboundMobility;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -95,6 +102,7 @@ public class Stats {
 	 */
 	public void  setMeanNbrUsr(Long meanNbrUsr) {
 		this.meanNbrUsr = meanNbrUsr;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -106,6 +114,7 @@ public class Stats {
 	 */
 	public Stats withMeanNbrUsr(Long meanNbrUsr) {
 		this.meanNbrUsr = meanNbrUsr;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -127,6 +136,7 @@ public class Stats {
 	 */
 	public void  setAttInboundMobility(Long attInboundMobility) {
 		this.attInboundMobility = attInboundMobility;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -138,6 +148,7 @@ public class Stats {
 	 */
 	public Stats withAttInboundMobility(Long attInboundMobility) {
 		this.attInboundMobility = attInboundMobility;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -159,6 +170,7 @@ public class Stats {
 	 */
 	public void  setSuccInboundMobility(Long succInboundMobility) {
 		this.succInboundMobility = succInboundMobility;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -170,6 +182,7 @@ public class Stats {
 	 */
 	public Stats withSuccInboundMobility(Long succInboundMobility) {
 		this.succInboundMobility = succInboundMobility;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -186,6 +199,19 @@ public class Stats {
 		return failedInboundMobility;
 	}
 
+	/**
+	 * Read the this measurement provides the number of failed successful inbound mobility for UEs to CSG cells or hybrid cells in RRC_CONNECTED mode by cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the cause name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFailedInboundMobility() {
+		return failedInboundMobility == null ? Collections.emptyList() : failedInboundMobility;
+	}
+
 	/**
 	 * Set the this measurement provides the number of failed successful inbound mobility for UEs to CSG cells or hybrid cells in RRC_CONNECTED mode by cause.
 
@@ -196,6 +222,7 @@ public class Stats {
 	 */
 	public void  setFailedInboundMobility(Collection<String> failedInboundMobility) {
 		this.failedInboundMobility = failedInboundMobility;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -209,6 +236,7 @@ public class Stats {
 	 */
 	public Stats withFailedInboundMobility(String string) {
 		getFailedInboundMobility().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.drb;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the DRB statistics as defined in {{bibref|3GPP-TS.32.453}}.
@@ -142,6 +144,11 @@ public class Stats {
 	@XmlList
 	public Collection<String> ueactiveUl;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -159,6 +166,19 @@ public class Stats {
 		return pdcpSduBitrateDl;
 	}
 
+	/**
+	 * Read the this measurement provides the average cell bit-rate of PDCP SDUs on the downlink.  This represents the ingress rate of user plane traffic to the HeNB (via S1) by SAE Bearer QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPdcpSduBitrateDl() {
+		return pdcpSduBitrateDl == null ? Collections.emptyList() : pdcpSduBitrateDl;
+	}
+
 	/**
 	 * Set the this measurement provides the average cell bit-rate of PDCP SDUs on the downlink.  This represents the ingress rate of user plane traffic to the HeNB (via S1) by SAE Bearer QoS level (QCI).
 
@@ -169,6 +189,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduBitrateDl(Collection<String> pdcpSduBitrateDl) {
 		this.pdcpSduBitrateDl = pdcpSduBitrateDl;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -182,6 +203,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduBitrateDl(String string) {
 		getPdcpSduBitrateDl().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -198,6 +220,19 @@ public class Stats {
 		return pdcpSduBitrateUl;
 	}
 
+	/**
+	 * Read the this measurement provides the average cell bit-rate of PDCP SDUs on the uplink. This represents successful transmissions of user plane traffic; control signalling and retransmissions are excluded from this measure. Measurement is by SAE Bearer QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPdcpSduBitrateUl() {
+		return pdcpSduBitrateUl == null ? Collections.emptyList() : pdcpSduBitrateUl;
+	}
+
 	/**
 	 * Set the this measurement provides the average cell bit-rate of PDCP SDUs on the uplink. This represents successful transmissions of user plane traffic; control signalling and retransmissions are excluded from this measure. Measurement is by SAE Bearer QoS level (QCI).
 
@@ -208,6 +243,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduBitrateUl(Collection<String> pdcpSduBitrateUl) {
 		this.pdcpSduBitrateUl = pdcpSduBitrateUl;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -221,6 +257,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduBitrateUl(String string) {
 		getPdcpSduBitrateUl().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -242,6 +279,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduBitrateDlMax(Long pdcpSduBitrateDlMax) {
 		this.pdcpSduBitrateDlMax = pdcpSduBitrateDlMax;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -253,6 +291,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduBitrateDlMax(Long pdcpSduBitrateDlMax) {
 		this.pdcpSduBitrateDlMax = pdcpSduBitrateDlMax;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -274,6 +313,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduBitrateUlMax(Long pdcpSduBitrateUlMax) {
 		this.pdcpSduBitrateUlMax = pdcpSduBitrateUlMax;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -285,6 +325,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduBitrateUlMax(Long pdcpSduBitrateUlMax) {
 		this.pdcpSduBitrateUlMax = pdcpSduBitrateUlMax;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -301,6 +342,19 @@ public class Stats {
 		return pdcpSduDelayDl;
 	}
 
+	/**
+	 * Read the this measurement provides the average (arithmetic mean) PDCP SDU delay on the downlink by ERAB Bearer QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPdcpSduDelayDl() {
+		return pdcpSduDelayDl == null ? Collections.emptyList() : pdcpSduDelayDl;
+	}
+
 	/**
 	 * Set the this measurement provides the average (arithmetic mean) PDCP SDU delay on the downlink by ERAB Bearer QoS level (QCI).
 
@@ -311,6 +365,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduDelayDl(Collection<String> pdcpSduDelayDl) {
 		this.pdcpSduDelayDl = pdcpSduDelayDl;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -324,6 +379,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduDelayDl(String string) {
 		getPdcpSduDelayDl().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -340,6 +396,19 @@ public class Stats {
 		return pdcpSduDropRateDl;
 	}
 
+	/**
+	 * Read the this measurement provides the fraction of IP packets (PDCP SDUs) which are dropped on the downlink by ERAB Bearer QoS level (QCI).  Only user-plane traffic (DTCH) is considered.  A dropped packet is one whose context is removed from the HeNB without any part of it having been transmitted on the air interface.  Packets discarded during handover are excluded from the count.
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPdcpSduDropRateDl() {
+		return pdcpSduDropRateDl == null ? Collections.emptyList() : pdcpSduDropRateDl;
+	}
+
 	/**
 	 * Set the this measurement provides the fraction of IP packets (PDCP SDUs) which are dropped on the downlink by ERAB Bearer QoS level (QCI).  Only user-plane traffic (DTCH) is considered.  A dropped packet is one whose context is removed from the HeNB without any part of it having been transmitted on the air interface.  Packets discarded during handover are excluded from the count.
 
@@ -350,6 +419,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduDropRateDl(Collection<String> pdcpSduDropRateDl) {
 		this.pdcpSduDropRateDl = pdcpSduDropRateDl;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -363,6 +433,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduDropRateDl(String string) {
 		getPdcpSduDropRateDl().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -379,6 +450,19 @@ public class Stats {
 		return pdcpSduAirLossRateDl;
 	}
 
+	/**
+	 * Read the this measurement provides the fraction of IP packets (PDCP SDUs) which are lost (not successfully transmitted) on the downlink air interface by ERAB Bearer QoS level (QCI). Only user-plane traffic (DTCH) is considered. A lost packet is one whose context is removed from the HeNB after an attempt has been made to transmit part or all of the packet on the air interface but the whole packet has not been successfully transmittedafter an attempt has been made to transmit part or all of the packet on the air interface but the whole packet has not been successfully transmitted.
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPdcpSduAirLossRateDl() {
+		return pdcpSduAirLossRateDl == null ? Collections.emptyList() : pdcpSduAirLossRateDl;
+	}
+
 	/**
 	 * Set the this measurement provides the fraction of IP packets (PDCP SDUs) which are lost (not successfully transmitted) on the downlink air interface by ERAB Bearer QoS level (QCI). Only user-plane traffic (DTCH) is considered. A lost packet is one whose context is removed from the HeNB after an attempt has been made to transmit part or all of the packet on the air interface but the whole packet has not been successfully transmittedafter an attempt has been made to transmit part or all of the packet on the air interface but the whole packet has not been successfully transmitted.
 
@@ -389,6 +473,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduAirLossRateDl(Collection<String> pdcpSduAirLossRateDl) {
 		this.pdcpSduAirLossRateDl = pdcpSduAirLossRateDl;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -402,6 +487,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduAirLossRateDl(String string) {
 		getPdcpSduAirLossRateDl().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -418,6 +504,19 @@ public class Stats {
 		return pdcpSduLossRateUl;
 	}
 
+	/**
+	 * Read the this measurement provides the fraction of IP packets (PDCP SDUs) which are lost (not successfully received) on the uplink by ERAB Bearer QoS level (QCI).  Only user-plane traffic (DTCH) and only PDCP SDUs that have entered PDCP (and given a PDCP sequence number) are considered.
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPdcpSduLossRateUl() {
+		return pdcpSduLossRateUl == null ? Collections.emptyList() : pdcpSduLossRateUl;
+	}
+
 	/**
 	 * Set the this measurement provides the fraction of IP packets (PDCP SDUs) which are lost (not successfully received) on the uplink by ERAB Bearer QoS level (QCI).  Only user-plane traffic (DTCH) and only PDCP SDUs that have entered PDCP (and given a PDCP sequence number) are considered.
 
@@ -428,6 +527,7 @@ public class Stats {
 	 */
 	public void  setPdcpSduLossRateUl(Collection<String> pdcpSduLossRateUl) {
 		this.pdcpSduLossRateUl = pdcpSduLossRateUl;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -441,6 +541,7 @@ public class Stats {
 	 */
 	public Stats withPdcpSduLossRateUl(String string) {
 		getPdcpSduLossRateUl().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -457,6 +558,19 @@ public class Stats {
 		return ueactiveDl;
 	}
 
+	/**
+	 * Read the this measurement provides the average number of UEs that have user-plane (DTCH) data queued on the downlink by ERAB Bearer QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUeactiveDl() {
+		return ueactiveDl == null ? Collections.emptyList() : ueactiveDl;
+	}
+
 	/**
 	 * Set the this measurement provides the average number of UEs that have user-plane (DTCH) data queued on the downlink by ERAB Bearer QoS level (QCI).
 
@@ -467,6 +581,7 @@ public class Stats {
 	 */
 	public void  setUeactiveDl(Collection<String> ueactiveDl) {
 		this.ueactiveDl = ueactiveDl;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -480,6 +595,7 @@ public class Stats {
 	 */
 	public Stats withUeactiveDl(String string) {
 		getUeactiveDl().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -496,6 +612,19 @@ public class Stats {
 		return ueactiveUl;
 	}
 
+	/**
+	 * Read the this measurement provides the average number of UEs that have user-plane (DTCH) data queued on the uplink by ERAB Bearer QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUeactiveUl() {
+		return ueactiveUl == null ? Collections.emptyList() : ueactiveUl;
+	}
+
 	/**
 	 * Set the this measurement provides the average number of UEs that have user-plane (DTCH) data queued on the uplink by ERAB Bearer QoS level (QCI).
 
@@ -506,6 +635,7 @@ public class Stats {
 	 */
 	public void  setUeactiveUl(Collection<String> ueactiveUl) {
 		this.ueactiveUl = ueactiveUl;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -519,6 +649,7 @@ public class Stats {
 	 */
 	public Stats withUeactiveUl(String string) {
 		getUeactiveUl().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.erab;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.erab.stats.LGW;
 
 	/**
@@ -134,6 +137,11 @@ public class Stats {
 	@XmlElement(name = "LGW")
 	public Collection<LGW> lgws;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -151,6 +159,19 @@ public class Stats {
 		return estabInitAttNbr;
 	}
 
+	/**
+	 * Read the this measurement provides the number of initial E-RABs attempted to setup by QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEstabInitAttNbr() {
+		return estabInitAttNbr == null ? Collections.emptyList() : estabInitAttNbr;
+	}
+
 	/**
 	 * Set the this measurement provides the number of initial E-RABs attempted to setup by QoS level (QCI).
 
@@ -161,6 +182,7 @@ public class Stats {
 	 */
 	public void  setEstabInitAttNbr(Collection<String> estabInitAttNbr) {
 		this.estabInitAttNbr = estabInitAttNbr;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -174,6 +196,7 @@ public class Stats {
 	 */
 	public Stats withEstabInitAttNbr(String string) {
 		getEstabInitAttNbr().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -190,6 +213,19 @@ public class Stats {
 		return estabInitSuccNbr;
 	}
 
+	/**
+	 * Read the this measurement provides the number of initial E-RABs successfully established QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEstabInitSuccNbr() {
+		return estabInitSuccNbr == null ? Collections.emptyList() : estabInitSuccNbr;
+	}
+
 	/**
 	 * Set the this measurement provides the number of initial E-RABs successfully established QoS level (QCI).
 
@@ -200,6 +236,7 @@ public class Stats {
 	 */
 	public void  setEstabInitSuccNbr(Collection<String> estabInitSuccNbr) {
 		this.estabInitSuccNbr = estabInitSuccNbr;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -213,6 +250,7 @@ public class Stats {
 	 */
 	public Stats withEstabInitSuccNbr(String string) {
 		getEstabInitSuccNbr().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -229,6 +267,19 @@ public class Stats {
 		return estabInitFailNbr;
 	}
 
+	/**
+	 * Read the this measurement provides the number of initial E-RABs failed to setup by cause.
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEstabInitFailNbr() {
+		return estabInitFailNbr == null ? Collections.emptyList() : estabInitFailNbr;
+	}
+
 	/**
 	 * Set the this measurement provides the number of initial E-RABs failed to setup by cause.
 
@@ -239,6 +290,7 @@ public class Stats {
 	 */
 	public void  setEstabInitFailNbr(Collection<String> estabInitFailNbr) {
 		this.estabInitFailNbr = estabInitFailNbr;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -252,6 +304,7 @@ public class Stats {
 	 */
 	public Stats withEstabInitFailNbr(String string) {
 		getEstabInitFailNbr().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -268,6 +321,19 @@ public class Stats {
 		return estabAttNbr;
 	}
 
+	/**
+	 * Read the this measurement provides the number of E-RABs attempted to setup by QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEstabAttNbr() {
+		return estabAttNbr == null ? Collections.emptyList() : estabAttNbr;
+	}
+
 	/**
 	 * Set the this measurement provides the number of E-RABs attempted to setup by QoS level (QCI).
 
@@ -278,6 +344,7 @@ public class Stats {
 	 */
 	public void  setEstabAttNbr(Collection<String> estabAttNbr) {
 		this.estabAttNbr = estabAttNbr;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -291,6 +358,7 @@ public class Stats {
 	 */
 	public Stats withEstabAttNbr(String string) {
 		getEstabAttNbr().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -307,6 +375,19 @@ public class Stats {
 		return estabSuccNbr;
 	}
 
+	/**
+	 * Read the this measurement provides the number of E-RABs successfully established by QoS level (QCI).
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEstabSuccNbr() {
+		return estabSuccNbr == null ? Collections.emptyList() : estabSuccNbr;
+	}
+
 	/**
 	 * Set the this measurement provides the number of E-RABs successfully established by QoS level (QCI).
 
@@ -317,6 +398,7 @@ public class Stats {
 	 */
 	public void  setEstabSuccNbr(Collection<String> estabSuccNbr) {
 		this.estabSuccNbr = estabSuccNbr;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -330,6 +412,7 @@ public class Stats {
 	 */
 	public Stats withEstabSuccNbr(String string) {
 		getEstabSuccNbr().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -346,6 +429,19 @@ public class Stats {
 		return estabFailNbr;
 	}
 
+	/**
+	 * Read the this measurement provides the number of E-RABs failed to setup by cause.
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEstabFailNbr() {
+		return estabFailNbr == null ? Collections.emptyList() : estabFailNbr;
+	}
+
 	/**
 	 * Set the this measurement provides the number of E-RABs failed to setup by cause.
 
@@ -356,6 +452,7 @@ public class Stats {
 	 */
 	public void  setEstabFailNbr(Collection<String> estabFailNbr) {
 		this.estabFailNbr = estabFailNbr;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -369,6 +466,7 @@ public class Stats {
 	 */
 	public Stats withEstabFailNbr(String string) {
 		getEstabFailNbr().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -385,6 +483,19 @@ public class Stats {
 		return relEnbNbrQCI;
 	}
 
+	/**
+	 * Read the this measurement provides the number of E-RABs requested to release initiated by HeNB by QCI.
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRelEnbNbrQCI() {
+		return relEnbNbrQCI == null ? Collections.emptyList() : relEnbNbrQCI;
+	}
+
 	/**
 	 * Set the this measurement provides the number of E-RABs requested to release initiated by HeNB by QCI.
 
@@ -395,6 +506,7 @@ public class Stats {
 	 */
 	public void  setRelEnbNbrQCI(Collection<String> relEnbNbrQCI) {
 		this.relEnbNbrQCI = relEnbNbrQCI;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -408,6 +520,7 @@ public class Stats {
 	 */
 	public Stats withRelEnbNbrQCI(String string) {
 		getRelEnbNbrQCI().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -424,6 +537,19 @@ public class Stats {
 		return relEnbNbrCause;
 	}
 
+	/**
+	 * Read the this measurement provides the number of E-RABs requested to release initiated by HeNB by cause.
+
+{{list| where each item is defined as the "QCI level name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRelEnbNbrCause() {
+		return relEnbNbrCause == null ? Collections.emptyList() : relEnbNbrCause;
+	}
+
 	/**
 	 * Set the this measurement provides the number of E-RABs requested to release initiated by HeNB by cause.
 
@@ -434,6 +560,7 @@ public class Stats {
 	 */
 	public void  setRelEnbNbrCause(Collection<String> relEnbNbrCause) {
 		this.relEnbNbrCause = relEnbNbrCause;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -447,6 +574,7 @@ public class Stats {
 	 */
 	public Stats withRelEnbNbrCause(String string) {
 		getRelEnbNbrCause().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -456,10 +584,20 @@ public class Stats {
 	 * @return the value
 	 */
 	public Collection<LGW> getLgws() {
-		if (this.lgws == null){ this.lgws=new ArrayList<>();}
+		if (!(this.lgws instanceof InstanceTable)){ this.lgws=InstanceTable.of(this.lgws);}
 		return lgws;
 	}
 
+	/**
+	 * Read the this object provides statistics for the Direct User Plane Path between HeNB and Local Gateway as defined in {{bibref|3GPP-TS.32.453}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LGW> viewLgws() {
+		return lgws == null ? Collections.emptyList() : lgws;
+	}
+
 	/**
 	 * Set the this object provides statistics for the Direct User Plane Path between HeNB and Local Gateway as defined in {{bibref|3GPP-TS.32.453}}.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.erab.stats;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object provides statistics for the Direct User Plane Path between HeNB and Local Gateway as defined in {{bibref|3GPP-TS.32.453}}.
@@ -74,6 +77,16 @@ public class LGW {
 	@XmlList
 	public Collection<String> estabDirectPathLGWFailNbr;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LGW() {
 	}
 
@@ -96,6 +109,8 @@ public class LGW {
 	 */
 	public void  setCorrelationID(String correlationID) {
 		this.correlationID = correlationID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -107,6 +122,8 @@ public class LGW {
 	 */
 	public LGW withCorrelationID(String correlationID) {
 		this.correlationID = correlationID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -128,6 +145,7 @@ public class LGW {
 	 */
 	public void  setEstabDirectPathLGWAttNbr(Long estabDirectPathLGWAttNbr) {
 		this.estabDirectPathLGWAttNbr = estabDirectPathLGWAttNbr;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -139,6 +157,7 @@ public class LGW {
 	 */
 	public LGW withEstabDirectPathLGWAttNbr(Long estabDirectPathLGWAttNbr) {
 		this.estabDirectPathLGWAttNbr = estabDirectPathLGWAttNbr;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -160,6 +179,7 @@ public class LGW {
 	 */
 	public void  setEstabDirectPathLGWSuccNbr(Long estabDirectPathLGWSuccNbr) {
 		this.estabDirectPathLGWSuccNbr = estabDirectPathLGWSuccNbr;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -171,6 +191,7 @@ public class LGW {
 	 */
 	public LGW withEstabDirectPathLGWSuccNbr(Long estabDirectPathLGWSuccNbr) {
 		this.estabDirectPathLGWSuccNbr = estabDirectPathLGWSuccNbr;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -187,6 +208,19 @@ public class LGW {
 		return estabDirectPathLGWFailNbr;
 	}
 
+	/**
+	 * Read the this measurement provides the number of direct user plane path between HeNB and Local GW E-RABs failed to setup by cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEstabDirectPathLGWFailNbr() {
+		return estabDirectPathLGWFailNbr == null ? Collections.emptyList() : estabDirectPathLGWFailNbr;
+	}
+
 	/**
 	 * Set the this measurement provides the number of direct user plane path between HeNB and Local GW E-RABs failed to setup by cause.
 
@@ -197,6 +231,7 @@ public class LGW {
 	 */
 	public void  setEstabDirectPathLGWFailNbr(Collection<String> estabDirectPathLGWFailNbr) {
 		this.estabDirectPathLGWFailNbr = estabDirectPathLGWFailNbr;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -210,6 +245,7 @@ public class LGW {
 	 */
 	public LGW withEstabDirectPathLGWFailNbr(String string) {
 		getEstabDirectPathLGWFailNbr().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mac;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the DRX (Discontinuous Reception) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.2.2}}).
@@ -140,6 +142,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@XmlList
 	public Collection<String> drxShortCycleTimer;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DRX() {
 	}
 
@@ -166,6 +173,7 @@ Corresponds to drx-Configuration IE defined in {{bibref|3GPP-TS.36.331|Section 6
 	 */
 	public void  setDrxEnabled(Boolean drxEnabled) {
 		this.drxEnabled = drxEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -179,6 +187,7 @@ Corresponds to drx-Configuration IE defined in {{bibref|3GPP-TS.36.331|Section 6
 	 */
 	public DRX withDrxEnabled(Boolean drxEnabled) {
 		this.drxEnabled = drxEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -197,6 +206,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return ondurationTimer;
 	}
 
+	/**
+	 * Read the {{list}} Each item is the DRX cycle during which UE actively monitors PDCCH, specified in number of PDCCH sub-frames, from the list of 1, 2, 3, 4, 5, 6, 8, 10, 20, 30, 40, 50, 60, 80, 100, 200. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to parameter onDurationTimer specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewOndurationTimer() {
+		return ondurationTimer == null ? Collections.emptyList() : ondurationTimer;
+	}
+
 	/**
 	 * Set the {{list}} Each item is the DRX cycle during which UE actively monitors PDCCH, specified in number of PDCCH sub-frames, from the list of 1, 2, 3, 4, 5, 6, 8, 10, 20, 30, 40, 50, 60, 80, 100, 200. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to parameter onDurationTimer specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.7}}.
 
@@ -209,6 +233,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setOndurationTimer(Collection<String> ondurationTimer) {
 		this.ondurationTimer = ondurationTimer;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -224,6 +249,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public DRX withOndurationTimer(String string) {
 		getOndurationTimer().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -242,6 +268,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return drxInactivityTimer;
 	}
 
+	/**
+	 * Read the {{list}} Each item defines the number of inactive consecutive PDCCH sub-frame(s) that will activate short DRX cycle, specified in number of PDCCH sub-frames, from the list of 1, 2, 3, 4, 5, 6, 8, 10, 20, 30, 40, 50, 60, 80, 100, 200, 300, 500, 750, 1280, 1920, 2560.  In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter drx-InactivityTimer specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDrxInactivityTimer() {
+		return drxInactivityTimer == null ? Collections.emptyList() : drxInactivityTimer;
+	}
+
 	/**
 	 * Set the {{list}} Each item defines the number of inactive consecutive PDCCH sub-frame(s) that will activate short DRX cycle, specified in number of PDCCH sub-frames, from the list of 1, 2, 3, 4, 5, 6, 8, 10, 20, 30, 40, 50, 60, 80, 100, 200, 300, 500, 750, 1280, 1920, 2560.  In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter drx-InactivityTimer specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.7}}.
 
@@ -254,6 +295,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setDrxInactivityTimer(Collection<String> drxInactivityTimer) {
 		this.drxInactivityTimer = drxInactivityTimer;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -269,6 +311,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public DRX withDrxInactivityTimer(String string) {
 		getDrxInactivityTimer().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -294,6 +337,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setDrxRetransmissionTimer(Long drxRetransmissionTimer) {
 		this.drxRetransmissionTimer = drxRetransmissionTimer;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -307,6 +351,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public DRX withDrxRetransmissionTimer(Long drxRetransmissionTimer) {
 		this.drxRetransmissionTimer = drxRetransmissionTimer;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -332,6 +377,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setLongDRXCycle(Long longDRXCycle) {
 		this.longDRXCycle = longDRXCycle;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -345,6 +391,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public DRX withLongDRXCycle(Long longDRXCycle) {
 		this.longDRXCycle = longDRXCycle;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -365,6 +412,23 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return drxStartOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item defines the starting frame of the DRX cycle within the long DRX cycle, with a numeric range between 0 and 2559 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The valid value range is dependent on {{param|LongDRXCycle}} parameter which defines the upper bound of this range, i.e., range definition is [0: ({{param|LongDRXCycle}}-1)]. Corresponds to drxStartOffset parameter specified in {{bibref|3GPP-TS.36.321|Section 5.7}}. 
+
+Use of values bigger than ({{param|LongDRXCycle}}-1) MUST be rejected by the CPE.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDrxStartOffset() {
+		return drxStartOffset == null ? Collections.emptyList() : drxStartOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item defines the starting frame of the DRX cycle within the long DRX cycle, with a numeric range between 0 and 2559 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The valid value range is dependent on {{param|LongDRXCycle}} parameter which defines the upper bound of this range, i.e., range definition is [0: ({{param|LongDRXCycle}}-1)]. Corresponds to drxStartOffset parameter specified in {{bibref|3GPP-TS.36.321|Section 5.7}}. 
 
@@ -379,6 +443,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setDrxStartOffset(Collection<String> drxStartOffset) {
 		this.drxStartOffset = drxStartOffset;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -396,6 +461,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public DRX withDrxStartOffset(String string) {
 		getDrxStartOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -421,6 +487,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setShortDRXCycle(Long shortDRXCycle) {
 		this.shortDRXCycle = shortDRXCycle;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -434,6 +501,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public DRX withShortDRXCycle(Long shortDRXCycle) {
 		this.shortDRXCycle = shortDRXCycle;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -452,6 +520,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return drxShortCycleTimer;
 	}
 
+	/**
+	 * Read the {{list}} Each item defined the duration of the short DRX cycle in multiples of {{param|ShortDRXCycle}} parameter, specified in number of sub-frames, with a numeric range between 1 and 16 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Denotes the number of consecutive sub-frame(s)the UE shall follow the short DRX cycle after the DRX Inactivity Timer has expired. Corresponds to drxShortCycleTimer parameter specified in {{bibref|3GPP-TS.36.321|Section 5.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewDrxShortCycleTimer() {
+		return drxShortCycleTimer == null ? Collections.emptyList() : drxShortCycleTimer;
+	}
+
 	/**
 	 * Set the {{list}} Each item defined the duration of the short DRX cycle in multiples of {{param|ShortDRXCycle}} parameter, specified in number of sub-frames, with a numeric range between 1 and 16 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Denotes the number of consecutive sub-frame(s)the UE shall follow the short DRX cycle after the DRX Inactivity Timer has expired. Corresponds to drxShortCycleTimer parameter specified in {{bibref|3GPP-TS.36.321|Section 5.7}}.
 
@@ -464,6 +547,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setDrxShortCycleTimer(Collection<String> drxShortCycleTimer) {
 		this.drxShortCycleTimer = drxShortCycleTimer;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -479,6 +563,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public DRX withDrxShortCycleTimer(String string) {
 		getDrxShortCycleTimer().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mac;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the RACH (Random Access Channel) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.2.1}}).
@@ -158,6 +160,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@XmlList
 	public Collection<String> maxHARQMsg3Tx;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RACH() {
 	}
 
@@ -184,6 +191,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setNumberOfRaPreambles(Long numberOfRaPreambles) {
 		this.numberOfRaPreambles = numberOfRaPreambles;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -197,6 +205,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withNumberOfRaPreambles(Long numberOfRaPreambles) {
 		this.numberOfRaPreambles = numberOfRaPreambles;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -222,6 +231,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setSizeOfRaGroupA(Long sizeOfRaGroupA) {
 		this.sizeOfRaGroupA = sizeOfRaGroupA;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -235,6 +245,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withSizeOfRaGroupA(Long sizeOfRaGroupA) {
 		this.sizeOfRaGroupA = sizeOfRaGroupA;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -260,6 +271,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMessageSizeGroupA(Long messageSizeGroupA) {
 		this.messageSizeGroupA = messageSizeGroupA;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -273,6 +285,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withMessageSizeGroupA(Long messageSizeGroupA) {
 		this.messageSizeGroupA = messageSizeGroupA;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -298,6 +311,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMessagePowerOffsetGroupB(Integer messagePowerOffsetGroupB) {
 		this.messagePowerOffsetGroupB = messagePowerOffsetGroupB;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -311,6 +325,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withMessagePowerOffsetGroupB(Integer messagePowerOffsetGroupB) {
 		this.messagePowerOffsetGroupB = messagePowerOffsetGroupB;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -336,6 +351,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPowerRampingStep(Long powerRampingStep) {
 		this.powerRampingStep = powerRampingStep;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -349,6 +365,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withPowerRampingStep(Long powerRampingStep) {
 		this.powerRampingStep = powerRampingStep;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -374,6 +391,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPreambleInitialReceivedTargetPower(Integer preambleInitialReceivedTargetPower) {
 		this.preambleInitialReceivedTargetPower = preambleInitialReceivedTargetPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -387,6 +405,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withPreambleInitialReceivedTargetPower(Integer preambleInitialReceivedTargetPower) {
 		this.preambleInitialReceivedTargetPower = preambleInitialReceivedTargetPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -405,6 +424,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return preambleTransMax;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a maximum number of random access preamble transmissions, from the list of 3, 4, 5, 6, 7, 8, 10, 20, 50, 100, 200. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter preambleTransMax specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.1.4 and section 5.1.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPreambleTransMax() {
+		return preambleTransMax == null ? Collections.emptyList() : preambleTransMax;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a maximum number of random access preamble transmissions, from the list of 3, 4, 5, 6, 7, 8, 10, 20, 50, 100, 200. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter preambleTransMax specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.1.4 and section 5.1.5}}.
 
@@ -417,6 +451,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPreambleTransMax(Collection<String> preambleTransMax) {
 		this.preambleTransMax = preambleTransMax;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -432,6 +467,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withPreambleTransMax(String string) {
 		getPreambleTransMax().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -450,6 +486,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return responseWindowSize;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a duration of the random access response window, specified in sub-frames, with a numeric range between 2 and 10 inclusive (except value of 9). In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter ra-ResponseWindowSize specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.1.4}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewResponseWindowSize() {
+		return responseWindowSize == null ? Collections.emptyList() : responseWindowSize;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a duration of the random access response window, specified in sub-frames, with a numeric range between 2 and 10 inclusive (except value of 9). In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter ra-ResponseWindowSize specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.1.4}}.
 
@@ -462,6 +513,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setResponseWindowSize(Collection<String> responseWindowSize) {
 		this.responseWindowSize = responseWindowSize;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -477,6 +529,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withResponseWindowSize(String string) {
 		getResponseWindowSize().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -502,6 +555,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setContentionResolutionTimer(Long contentionResolutionTimer) {
 		this.contentionResolutionTimer = contentionResolutionTimer;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -515,6 +569,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withContentionResolutionTimer(Long contentionResolutionTimer) {
 		this.contentionResolutionTimer = contentionResolutionTimer;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -533,6 +588,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return maxHARQMsg3Tx;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a maximum number of Msg3 HARQ transmissions by RRC, with a numeric range between 1 and 8 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter maxHARQ-Msg3Tx specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.4.2.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewMaxHARQMsg3Tx() {
+		return maxHARQMsg3Tx == null ? Collections.emptyList() : maxHARQMsg3Tx;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a maximum number of Msg3 HARQ transmissions by RRC, with a numeric range between 1 and 8 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter maxHARQ-Msg3Tx specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.321|Section 5.4.2.2}}.
 
@@ -545,6 +615,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMaxHARQMsg3Tx(Collection<String> maxHARQMsg3Tx) {
 		this.maxHARQMsg3Tx = maxHARQMsg3Tx;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -560,6 +631,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public RACH withMaxHARQMsg3Tx(String string) {
 		getMaxHARQMsg3Tx().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
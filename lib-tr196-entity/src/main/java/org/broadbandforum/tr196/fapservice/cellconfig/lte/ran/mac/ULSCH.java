@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the ULSCH (Uplink Shared Channel) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.2.3}}).
@@ -74,6 +75,11 @@ Corresponds to parameter ttiBundling specified in {{bibref|3GPP-TS.36.331|Sectio
 	@XmlElement(name = "TTIBundling")
 	public Boolean ttiBundling;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ULSCH() {
 	}
 
@@ -100,6 +106,7 @@ Corresponds to parameter maxHARQ-Tx specified in {{bibref|3GPP-TS.36.331|Section
 	 */
 	public void  setMaxHARQTx(Long maxHARQTx) {
 		this.maxHARQTx = maxHARQTx;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +120,7 @@ Corresponds to parameter maxHARQ-Tx specified in {{bibref|3GPP-TS.36.331|Section
 	 */
 	public ULSCH withMaxHARQTx(Long maxHARQTx) {
 		this.maxHARQTx = maxHARQTx;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -138,6 +146,7 @@ Corresponds to parameter periodicBSR-Timer specified in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setPeriodicBSRTimer(Long periodicBSRTimer) {
 		this.periodicBSRTimer = periodicBSRTimer;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -151,6 +160,7 @@ Corresponds to parameter periodicBSR-Timer specified in {{bibref|3GPP-TS.36.331|
 	 */
 	public ULSCH withPeriodicBSRTimer(Long periodicBSRTimer) {
 		this.periodicBSRTimer = periodicBSRTimer;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -176,6 +186,7 @@ Corresponds to parameter retxBSR-Timer specified in {{bibref|3GPP-TS.36.331|Sect
 	 */
 	public void  setRetxBSRTimer(Long retxBSRTimer) {
 		this.retxBSRTimer = retxBSRTimer;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -189,6 +200,7 @@ Corresponds to parameter retxBSR-Timer specified in {{bibref|3GPP-TS.36.331|Sect
 	 */
 	public ULSCH withRetxBSRTimer(Long retxBSRTimer) {
 		this.retxBSRTimer = retxBSRTimer;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -214,6 +226,7 @@ Corresponds to parameter ttiBundling specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setTtiBundling(Boolean ttiBundling) {
 		this.ttiBundling = ttiBundling;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -227,6 +240,7 @@ Corresponds to parameter ttiBundling specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public ULSCH withTtiBundling(Boolean ttiBundling) {
 		this.ttiBundling = ttiBundling;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
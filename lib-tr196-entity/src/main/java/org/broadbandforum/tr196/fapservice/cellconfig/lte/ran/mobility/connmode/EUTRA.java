@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.connmode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the connected mode mobility (handover) configuration within LTE system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.2.1}}).
@@ -246,6 +248,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@Size(min = 64, max = 64)
 	public Long reportAmount;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public EUTRA() {
 	}
 
@@ -265,6 +272,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return filterCoefficientRSRP;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a filtering coefficient used for RSRP measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to filterCoefficientRSRP parameter specified in  QuantityConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFilterCoefficientRSRP() {
+		return filterCoefficientRSRP == null ? Collections.emptyList() : filterCoefficientRSRP;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a filtering coefficient used for RSRP measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to filterCoefficientRSRP parameter specified in  QuantityConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
 
@@ -277,6 +299,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setFilterCoefficientRSRP(Collection<String> filterCoefficientRSRP) {
 		this.filterCoefficientRSRP = filterCoefficientRSRP;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -292,6 +315,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withFilterCoefficientRSRP(String string) {
 		getFilterCoefficientRSRP().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -310,6 +334,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return filterCoefficientRSRQ;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a filtering coefficient used for RSRQ measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to filterCoefficientRSRQ parameter specified in  QuantityConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFilterCoefficientRSRQ() {
+		return filterCoefficientRSRQ == null ? Collections.emptyList() : filterCoefficientRSRQ;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a filtering coefficient used for RSRQ measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to filterCoefficientRSRQ parameter specified in  QuantityConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
 
@@ -322,6 +361,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setFilterCoefficientRSRQ(Collection<String> filterCoefficientRSRQ) {
 		this.filterCoefficientRSRQ = filterCoefficientRSRQ;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -337,6 +377,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withFilterCoefficientRSRQ(String string) {
 		getFilterCoefficientRSRQ().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -358,6 +399,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA1thresholdRSRP(Long a1thresholdRSRP) {
 		this.a1thresholdRSRP = a1thresholdRSRP;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -369,6 +411,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA1thresholdRSRP(Long a1thresholdRSRP) {
 		this.a1thresholdRSRP = a1thresholdRSRP;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -390,6 +433,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA1thresholdRSRQ(Long a1thresholdRSRQ) {
 		this.a1thresholdRSRQ = a1thresholdRSRQ;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -401,6 +445,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA1thresholdRSRQ(Long a1thresholdRSRQ) {
 		this.a1thresholdRSRQ = a1thresholdRSRQ;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -422,6 +467,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA2thresholdRSRP(Long a2thresholdRSRP) {
 		this.a2thresholdRSRP = a2thresholdRSRP;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -433,6 +479,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA2thresholdRSRP(Long a2thresholdRSRP) {
 		this.a2thresholdRSRP = a2thresholdRSRP;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -454,6 +501,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA2thresholdRSRQ(Long a2thresholdRSRQ) {
 		this.a2thresholdRSRQ = a2thresholdRSRQ;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -465,6 +513,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA2thresholdRSRQ(Long a2thresholdRSRQ) {
 		this.a2thresholdRSRQ = a2thresholdRSRQ;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -483,6 +532,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return a3offset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is an offset to be used in evaluation of EUTRA measurement report triggering condition for event A3, with a numeric range between -30 and 30 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Mapping to actual values is specified in {{bibref|3GPP-TS.36.133}}. Corresponds to parameter a3-Offset specified in ReportConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewA3offset() {
+		return a3offset == null ? Collections.emptyList() : a3offset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is an offset to be used in evaluation of EUTRA measurement report triggering condition for event A3, with a numeric range between -30 and 30 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Mapping to actual values is specified in {{bibref|3GPP-TS.36.133}}. Corresponds to parameter a3-Offset specified in ReportConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
 
@@ -495,6 +559,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA3offset(Collection<String> a3offset) {
 		this.a3offset = a3offset;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -510,6 +575,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA3offset(String string) {
 		getA3offset().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -531,6 +597,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setReportOnLeave(Boolean reportOnLeave) {
 		this.reportOnLeave = reportOnLeave;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -542,6 +609,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withReportOnLeave(Boolean reportOnLeave) {
 		this.reportOnLeave = reportOnLeave;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -563,6 +631,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA4thresholdRSRP(Long a4thresholdRSRP) {
 		this.a4thresholdRSRP = a4thresholdRSRP;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -574,6 +643,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA4thresholdRSRP(Long a4thresholdRSRP) {
 		this.a4thresholdRSRP = a4thresholdRSRP;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -595,6 +665,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA4thresholdRSRQ(Long a4thresholdRSRQ) {
 		this.a4thresholdRSRQ = a4thresholdRSRQ;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -606,6 +677,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA4thresholdRSRQ(Long a4thresholdRSRQ) {
 		this.a4thresholdRSRQ = a4thresholdRSRQ;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -627,6 +699,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA5threshold1RSRP(Long a5threshold1RSRP) {
 		this.a5threshold1RSRP = a5threshold1RSRP;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -638,6 +711,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA5threshold1RSRP(Long a5threshold1RSRP) {
 		this.a5threshold1RSRP = a5threshold1RSRP;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -659,6 +733,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA5threshold1RSRQ(Long a5threshold1RSRQ) {
 		this.a5threshold1RSRQ = a5threshold1RSRQ;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -670,6 +745,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA5threshold1RSRQ(Long a5threshold1RSRQ) {
 		this.a5threshold1RSRQ = a5threshold1RSRQ;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -691,6 +767,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA5threshold2RSRP(Long a5threshold2RSRP) {
 		this.a5threshold2RSRP = a5threshold2RSRP;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -702,6 +779,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA5threshold2RSRP(Long a5threshold2RSRP) {
 		this.a5threshold2RSRP = a5threshold2RSRP;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -723,6 +801,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setA5threshold2RSRQ(Long a5threshold2RSRQ) {
 		this.a5threshold2RSRQ = a5threshold2RSRQ;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -734,6 +813,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withA5threshold2RSRQ(Long a5threshold2RSRQ) {
 		this.a5threshold2RSRQ = a5threshold2RSRQ;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -752,6 +832,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return hysteresis;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a hysteresis value applied to entry and leave condition of a report triggering event, with a numeric range between 0 and 30 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter hysteresis specified in ReportConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHysteresis() {
+		return hysteresis == null ? Collections.emptyList() : hysteresis;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a hysteresis value applied to entry and leave condition of a report triggering event, with a numeric range between 0 and 30 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter hysteresis specified in ReportConfigEUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
 
@@ -764,6 +859,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setHysteresis(Collection<String> hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -779,6 +875,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withHysteresis(String string) {
 		getHysteresis().add(string);
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -804,6 +901,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -817,6 +915,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -838,6 +937,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTriggerQuantity(String triggerQuantity) {
 		this.triggerQuantity = triggerQuantity;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -849,6 +949,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withTriggerQuantity(String triggerQuantity) {
 		this.triggerQuantity = triggerQuantity;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -870,6 +971,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setReportQuantity(String reportQuantity) {
 		this.reportQuantity = reportQuantity;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -881,6 +983,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withReportQuantity(String reportQuantity) {
 		this.reportQuantity = reportQuantity;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -902,6 +1005,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMaxReportCells(Long maxReportCells) {
 		this.maxReportCells = maxReportCells;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -913,6 +1017,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withMaxReportCells(Long maxReportCells) {
 		this.maxReportCells = maxReportCells;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -934,6 +1039,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setReportInterval(Long reportInterval) {
 		this.reportInterval = reportInterval;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -945,6 +1051,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withReportInterval(Long reportInterval) {
 		this.reportInterval = reportInterval;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -966,6 +1073,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setReportAmount(Long reportAmount) {
 		this.reportAmount = reportAmount;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -977,6 +1085,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public EUTRA withReportAmount(Long reportAmount) {
 		this.reportAmount = reportAmount;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
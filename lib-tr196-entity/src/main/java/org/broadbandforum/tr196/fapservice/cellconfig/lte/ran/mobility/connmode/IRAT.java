@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.connmode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the connected mode mobility (handover) configuration that is common to all inter-RAT handover scenarios (UTRA (UMTS), GERAN (GSM) and CDMA2000) (see {{bibref|3GPP-TS.32.592|Section 6.1.5.2.2}}).
@@ -248,6 +250,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@Size(min = 64, max = 64)
 	public Long reportAmount;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IRAT() {
 	}
 
@@ -267,6 +274,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qoffsettUTRA;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a UTRA-specific offset to be applied when evaluating triggering conditions for measurement reporting in connected mode, with a numeric range between -15 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter offsetFreq included in the IE MeasObjectUTRA specified in {{bibref|3GPP-TS.36.331}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQoffsettUTRA() {
+		return qoffsettUTRA == null ? Collections.emptyList() : qoffsettUTRA;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a UTRA-specific offset to be applied when evaluating triggering conditions for measurement reporting in connected mode, with a numeric range between -15 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter offsetFreq included in the IE MeasObjectUTRA specified in {{bibref|3GPP-TS.36.331}}.
 
@@ -279,6 +301,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQoffsettUTRA(Collection<String> qoffsettUTRA) {
 		this.qoffsettUTRA = qoffsettUTRA;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -294,6 +317,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withQoffsettUTRA(String string) {
 		getQoffsettUTRA().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -312,6 +336,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return filterCoefficientUTRA;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a filtering coefficient used for UTRA measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to filterCoefficient parameter specified in  QuantityConfigUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFilterCoefficientUTRA() {
+		return filterCoefficientUTRA == null ? Collections.emptyList() : filterCoefficientUTRA;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a filtering coefficient used for UTRA measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to filterCoefficient parameter specified in  QuantityConfigUTRA IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
 
@@ -324,6 +363,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setFilterCoefficientUTRA(Collection<String> filterCoefficientUTRA) {
 		this.filterCoefficientUTRA = filterCoefficientUTRA;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -339,6 +379,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withFilterCoefficientUTRA(String string) {
 		getFilterCoefficientUTRA().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -360,6 +401,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMeasQuantityUTRAFDD(String measQuantityUTRAFDD) {
 		this.measQuantityUTRAFDD = measQuantityUTRAFDD;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -371,6 +413,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withMeasQuantityUTRAFDD(String measQuantityUTRAFDD) {
 		this.measQuantityUTRAFDD = measQuantityUTRAFDD;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -392,6 +435,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB1thresholdUTRARSCP(Integer b1thresholdUTRARSCP) {
 		this.b1thresholdUTRARSCP = b1thresholdUTRARSCP;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -403,6 +447,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB1thresholdUTRARSCP(Integer b1thresholdUTRARSCP) {
 		this.b1thresholdUTRARSCP = b1thresholdUTRARSCP;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -424,6 +469,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB1thresholdUTRAEcN0(Long b1thresholdUTRAEcN0) {
 		this.b1thresholdUTRAEcN0 = b1thresholdUTRAEcN0;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -435,6 +481,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB1thresholdUTRAEcN0(Long b1thresholdUTRAEcN0) {
 		this.b1thresholdUTRAEcN0 = b1thresholdUTRAEcN0;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -453,6 +500,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qoffsetGERAN;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a GERAN-specific offset to be applied when evaluating triggering conditions for measurement reporting in connected mode, with a numeric range between -15 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter offsetFreq included in the IE MeasObjectGERAN specified in {{bibref|3GPP-TS.36.331}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQoffsetGERAN() {
+		return qoffsetGERAN == null ? Collections.emptyList() : qoffsetGERAN;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a GERAN-specific offset to be applied when evaluating triggering conditions for measurement reporting in connected mode, with a numeric range between -15 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter offsetFreq included in the IE MeasObjectGERAN specified in {{bibref|3GPP-TS.36.331}}.
 
@@ -465,6 +527,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQoffsetGERAN(Collection<String> qoffsetGERAN) {
 		this.qoffsetGERAN = qoffsetGERAN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -480,6 +543,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withQoffsetGERAN(String string) {
 		getQoffsetGERAN().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -498,6 +562,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return filterCoefficientGERAN;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a filtering coefficient used for GERAN measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to filterCoefficient parameter specified in QuantityConfigGERAN IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFilterCoefficientGERAN() {
+		return filterCoefficientGERAN == null ? Collections.emptyList() : filterCoefficientGERAN;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a filtering coefficient used for GERAN measurements, with a numeric range between 0 and 19 inclusive. For values greater than 9, only odd values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to filterCoefficient parameter specified in QuantityConfigGERAN IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
 
@@ -510,6 +589,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setFilterCoefficientGERAN(Collection<String> filterCoefficientGERAN) {
 		this.filterCoefficientGERAN = filterCoefficientGERAN;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -525,6 +605,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withFilterCoefficientGERAN(String string) {
 		getFilterCoefficientGERAN().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -546,6 +627,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB1thresholdGERAN(Long b1thresholdGERAN) {
 		this.b1thresholdGERAN = b1thresholdGERAN;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -557,6 +639,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB1thresholdGERAN(Long b1thresholdGERAN) {
 		this.b1thresholdGERAN = b1thresholdGERAN;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -575,6 +658,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qoffsetCDMA2000;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a CDMA2000-specific offset to be applied when evaluating triggering conditions for measurement reporting in connected mode, with a numeric range between -15 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter offsetFreq included in the IE MeasObjectCDMA2000 specified in {{bibref|3GPP-TS.36.331}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQoffsetCDMA2000() {
+		return qoffsetCDMA2000 == null ? Collections.emptyList() : qoffsetCDMA2000;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a CDMA2000-specific offset to be applied when evaluating triggering conditions for measurement reporting in connected mode, with a numeric range between -15 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter offsetFreq included in the IE MeasObjectCDMA2000 specified in {{bibref|3GPP-TS.36.331}}.
 
@@ -587,6 +685,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQoffsetCDMA2000(Collection<String> qoffsetCDMA2000) {
 		this.qoffsetCDMA2000 = qoffsetCDMA2000;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -602,6 +701,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withQoffsetCDMA2000(String string) {
 		getQoffsetCDMA2000().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -623,6 +723,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMeasQuantityCDMA2000(String measQuantityCDMA2000) {
 		this.measQuantityCDMA2000 = measQuantityCDMA2000;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -634,6 +735,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withMeasQuantityCDMA2000(String measQuantityCDMA2000) {
 		this.measQuantityCDMA2000 = measQuantityCDMA2000;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -655,6 +757,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB1thresholdCDMA2000(Long b1thresholdCDMA2000) {
 		this.b1thresholdCDMA2000 = b1thresholdCDMA2000;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -666,6 +769,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB1thresholdCDMA2000(Long b1thresholdCDMA2000) {
 		this.b1thresholdCDMA2000 = b1thresholdCDMA2000;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -687,6 +791,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB2threshold2UTRARSCP(Integer b2threshold2UTRARSCP) {
 		this.b2threshold2UTRARSCP = b2threshold2UTRARSCP;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -698,6 +803,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB2threshold2UTRARSCP(Integer b2threshold2UTRARSCP) {
 		this.b2threshold2UTRARSCP = b2threshold2UTRARSCP;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -719,6 +825,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB2threshold2UTRAEcN0(Long b2threshold2UTRAEcN0) {
 		this.b2threshold2UTRAEcN0 = b2threshold2UTRAEcN0;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -730,6 +837,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB2threshold2UTRAEcN0(Long b2threshold2UTRAEcN0) {
 		this.b2threshold2UTRAEcN0 = b2threshold2UTRAEcN0;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -751,6 +859,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB2threshold2GERAN(Long b2threshold2GERAN) {
 		this.b2threshold2GERAN = b2threshold2GERAN;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -762,6 +871,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB2threshold2GERAN(Long b2threshold2GERAN) {
 		this.b2threshold2GERAN = b2threshold2GERAN;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -783,6 +893,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setB2threshold2CDMA2000(Long b2threshold2CDMA2000) {
 		this.b2threshold2CDMA2000 = b2threshold2CDMA2000;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -794,6 +905,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withB2threshold2CDMA2000(Long b2threshold2CDMA2000) {
 		this.b2threshold2CDMA2000 = b2threshold2CDMA2000;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -812,6 +924,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return hysteresis;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a hysteresis value applied to entry and leave condition of an IRAT report triggering event, with a numeric range between 0 and 30 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter hysteresis specified in ReportConfigInterRAT IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHysteresis() {
+		return hysteresis == null ? Collections.emptyList() : hysteresis;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a hysteresis value applied to entry and leave condition of an IRAT report triggering event, with a numeric range between 0 and 30 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter hysteresis specified in ReportConfigInterRAT IE in {{bibref|3GPP-TS.36.331|Section 6.3.5}}.
 
@@ -824,6 +951,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setHysteresis(Collection<String> hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -839,6 +967,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withHysteresis(String string) {
 		getHysteresis().add(string);
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -864,6 +993,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -877,6 +1007,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -898,6 +1029,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMaxReportCells(Long maxReportCells) {
 		this.maxReportCells = maxReportCells;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -909,6 +1041,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withMaxReportCells(Long maxReportCells) {
 		this.maxReportCells = maxReportCells;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -930,6 +1063,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setReportInterval(Long reportInterval) {
 		this.reportInterval = reportInterval;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -941,6 +1075,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withReportInterval(Long reportInterval) {
 		this.reportInterval = reportInterval;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -962,6 +1097,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setReportAmount(Long reportAmount) {
 		this.reportAmount = reportAmount;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -973,6 +1109,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IRAT withReportAmount(Long reportAmount) {
 		this.reportAmount = reportAmount;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the idle mode mobility configuration that is common to all cell re-selection scenarios (intra/inter-freq, inter-RAT to UTRA (UMTS), GERAN (GSM) and CDMA2000) (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.1}}).
@@ -119,6 +121,11 @@ Corresponds to parameter n-cellChangeHigh specified in SIB3 in {{bibref|3GPP-TS.
 	@Size(min = 1, max = 16)
 	public Long ncellChangeHigh;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Common() {
 	}
 
@@ -138,6 +145,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qhyst;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a hysteresis value applied to serving cell for evaluating cell ranking criteria specified in dB, with a numeric range between 0 and 24 inclusive. For the value greater than 6, only even numbers are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter q-Hyst specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQhyst() {
+		return qhyst == null ? Collections.emptyList() : qhyst;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a hysteresis value applied to serving cell for evaluating cell ranking criteria specified in dB, with a numeric range between 0 and 24 inclusive. For the value greater than 6, only even numbers are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter q-Hyst specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -150,6 +172,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQhyst(Collection<String> qhyst) {
 		this.qhyst = qhyst;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +188,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public Common withQhyst(String string) {
 		getQhyst().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -190,6 +214,7 @@ Corresponds to parameter q-HystSF:sf-Medium specified in SIB3 in {{bibref|3GPP-T
 	 */
 	public void  setQhystSFMedium(Integer qhystSFMedium) {
 		this.qhystSFMedium = qhystSFMedium;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -203,6 +228,7 @@ Corresponds to parameter q-HystSF:sf-Medium specified in SIB3 in {{bibref|3GPP-T
 	 */
 	public Common withQhystSFMedium(Integer qhystSFMedium) {
 		this.qhystSFMedium = qhystSFMedium;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -228,6 +254,7 @@ Corresponds to parameter q-HystSF:sf-High specified in SIB3 in {{bibref|3GPP-TS.
 	 */
 	public void  setQhystSFHigh(Integer qhystSFHigh) {
 		this.qhystSFHigh = qhystSFHigh;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -241,6 +268,7 @@ Corresponds to parameter q-HystSF:sf-High specified in SIB3 in {{bibref|3GPP-TS.
 	 */
 	public Common withQhystSFHigh(Integer qhystSFHigh) {
 		this.qhystSFHigh = qhystSFHigh;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -266,6 +294,7 @@ Corresponds to parameter t-Evaluation specified in SIB3 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setTevaluation(Long tevaluation) {
 		this.tevaluation = tevaluation;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -279,6 +308,7 @@ Corresponds to parameter t-Evaluation specified in SIB3 in {{bibref|3GPP-TS.36.3
 	 */
 	public Common withTevaluation(Long tevaluation) {
 		this.tevaluation = tevaluation;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -304,6 +334,7 @@ Corresponds to parameter t-HystNormal specified in SIB3 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setThystNormal(Long thystNormal) {
 		this.thystNormal = thystNormal;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -317,6 +348,7 @@ Corresponds to parameter t-HystNormal specified in SIB3 in {{bibref|3GPP-TS.36.3
 	 */
 	public Common withThystNormal(Long thystNormal) {
 		this.thystNormal = thystNormal;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -342,6 +374,7 @@ Corresponds to parameter n-cellChangeMedium specified in SIB3 in {{bibref|3GPP-T
 	 */
 	public void  setNcellChangeMedium(Long ncellChangeMedium) {
 		this.ncellChangeMedium = ncellChangeMedium;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -355,6 +388,7 @@ Corresponds to parameter n-cellChangeMedium specified in SIB3 in {{bibref|3GPP-T
 	 */
 	public Common withNcellChangeMedium(Long ncellChangeMedium) {
 		this.ncellChangeMedium = ncellChangeMedium;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -380,6 +414,7 @@ Corresponds to parameter n-cellChangeHigh specified in SIB3 in {{bibref|3GPP-TS.
 	 */
 	public void  setNcellChangeHigh(Long ncellChangeHigh) {
 		this.ncellChangeHigh = ncellChangeHigh;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -393,6 +428,7 @@ Corresponds to parameter n-cellChangeHigh specified in SIB3 in {{bibref|3GPP-TS.
 	 */
 	public Common withNcellChangeHigh(Long ncellChangeHigh) {
 		this.ncellChangeHigh = ncellChangeHigh;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
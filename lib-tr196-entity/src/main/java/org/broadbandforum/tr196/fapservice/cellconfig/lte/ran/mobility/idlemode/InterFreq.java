@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode.interfreq.Carrier;
 
 	/**
@@ -53,6 +55,11 @@ public class InterFreq {
 	@CWMPParameter(access = "readWrite")
 	public Collection<Carrier> carriers;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterFreq() {
 	}
 
@@ -75,6 +82,7 @@ public class InterFreq {
 	 */
 	public void  setMaxCarrierEntries(Long maxCarrierEntries) {
 		this.maxCarrierEntries = maxCarrierEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -86,6 +94,7 @@ public class InterFreq {
 	 */
 	public InterFreq withMaxCarrierEntries(Long maxCarrierEntries) {
 		this.maxCarrierEntries = maxCarrierEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -95,10 +104,20 @@ public class InterFreq {
 	 * @return the value
 	 */
 	public Collection<Carrier> getCarriers() {
-		if (this.carriers == null){ this.carriers=new ArrayList<>();}
+		if (!(this.carriers instanceof InstanceTable)){ this.carriers=InstanceTable.of(this.carriers);}
 		return carriers;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to the carrier information for inter-freq re-selection scenario (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.3}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Carrier> viewCarriers() {
+		return carriers == null ? Collections.emptyList() : carriers;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to the carrier information for inter-freq re-selection scenario (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.3}}).
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the idle mode mobility configuration for intra-freq re-selection scenario (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.2}}).
@@ -175,6 +177,11 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB3 in {{bi
 	@Size(min = 100, max = 100)
 	public Long treselectionEUTRASFHigh;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IntraFreq() {
 	}
 
@@ -194,6 +201,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qrxLevMinSIB1;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a required minimum received RSRP level of a E-UTRA cell for cell selection, specified in dBm, with a numeric range between -70 and -22 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter q-rxLevMin in SIB1 in {{bibref|3GPP-TS.36.331|Section 6.2.2}} and in {{bibref|3GPP-TS.36.304|Section 5.2.3.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQrxLevMinSIB1() {
+		return qrxLevMinSIB1 == null ? Collections.emptyList() : qrxLevMinSIB1;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a required minimum received RSRP level of a E-UTRA cell for cell selection, specified in dBm, with a numeric range between -70 and -22 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter q-rxLevMin in SIB1 in {{bibref|3GPP-TS.36.331|Section 6.2.2}} and in {{bibref|3GPP-TS.36.304|Section 5.2.3.2}}.
 
@@ -206,6 +228,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQrxLevMinSIB1(Collection<String> qrxLevMinSIB1) {
 		this.qrxLevMinSIB1 = qrxLevMinSIB1;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -221,6 +244,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IntraFreq withQrxLevMinSIB1(String string) {
 		getQrxLevMinSIB1().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -239,6 +263,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qrxLevMinSIB3;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a required minimum received RSRP level for intra-frequency E-UTRA cell re-selection, specified in dBm, with a numeric range between -70 and -22 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value.  Corresponds to parameter q-rxLevMin in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.3.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQrxLevMinSIB3() {
+		return qrxLevMinSIB3 == null ? Collections.emptyList() : qrxLevMinSIB3;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a required minimum received RSRP level for intra-frequency E-UTRA cell re-selection, specified in dBm, with a numeric range between -70 and -22 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value.  Corresponds to parameter q-rxLevMin in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.3.2}}.
 
@@ -251,6 +290,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQrxLevMinSIB3(Collection<String> qrxLevMinSIB3) {
 		this.qrxLevMinSIB3 = qrxLevMinSIB3;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -266,6 +306,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IntraFreq withQrxLevMinSIB3(String string) {
 		getQrxLevMinSIB3().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -291,6 +332,7 @@ Corresponds to parameter q-rxLevMinOffset in SIB1 specified in {{bibref|3GPP-TS.
 	 */
 	public void  setQrxLevMinOffset(Long qrxLevMinOffset) {
 		this.qrxLevMinOffset = qrxLevMinOffset;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -304,6 +346,7 @@ Corresponds to parameter q-rxLevMinOffset in SIB1 specified in {{bibref|3GPP-TS.
 	 */
 	public IntraFreq withQrxLevMinOffset(Long qrxLevMinOffset) {
 		this.qrxLevMinOffset = qrxLevMinOffset;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -322,6 +365,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return sintraSearch;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a threshold for intra-frequency measurements, specified in dB, with a numeric range between 0 and 31 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter s-IntraSearch specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSintraSearch() {
+		return sintraSearch == null ? Collections.emptyList() : sintraSearch;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a threshold for intra-frequency measurements, specified in dB, with a numeric range between 0 and 31 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter s-IntraSearch specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -334,6 +392,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setSintraSearch(Collection<String> sintraSearch) {
 		this.sintraSearch = sintraSearch;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -349,6 +408,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IntraFreq withSintraSearch(String string) {
 		getSintraSearch().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -367,6 +427,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return treselectionEUTRA;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a cell re-selection timer for intra-frequency E-UTRA cell re-selection, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionEUTRA specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTreselectionEUTRA() {
+		return treselectionEUTRA == null ? Collections.emptyList() : treselectionEUTRA;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a cell re-selection timer for intra-frequency E-UTRA cell re-selection, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionEUTRA specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -379,6 +454,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreselectionEUTRA(Collection<String> treselectionEUTRA) {
 		this.treselectionEUTRA = treselectionEUTRA;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -394,6 +470,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IntraFreq withTreselectionEUTRA(String string) {
 		getTreselectionEUTRA().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -412,6 +489,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return snonIntraSearch;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a threshold for inter-frequency and inter-RAT measurements with lower or equal priority, specified in dB, with a numeric range between 0 and 31 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter s-NonIntraSearch specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSnonIntraSearch() {
+		return snonIntraSearch == null ? Collections.emptyList() : snonIntraSearch;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a threshold for inter-frequency and inter-RAT measurements with lower or equal priority, specified in dB, with a numeric range between 0 and 31 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter s-NonIntraSearch specified in SIB3 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -424,6 +516,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setSnonIntraSearch(Collection<String> snonIntraSearch) {
 		this.snonIntraSearch = snonIntraSearch;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -439,6 +532,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public IntraFreq withSnonIntraSearch(String string) {
 		getSnonIntraSearch().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -464,6 +558,7 @@ Corresponds to parameter CellReselectionPriority specified in SIB3 in {{bibref|3
 	 */
 	public void  setCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -477,6 +572,7 @@ Corresponds to parameter CellReselectionPriority specified in SIB3 in {{bibref|3
 	 */
 	public IntraFreq withCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -502,6 +598,7 @@ Corresponds to parameter p-Max specified in SIB1 and SIB3 in {{bibref|3GPP-TS.36
 	 */
 	public void  setPmax(Integer pmax) {
 		this.pmax = pmax;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -515,6 +612,7 @@ Corresponds to parameter p-Max specified in SIB1 and SIB3 in {{bibref|3GPP-TS.36
 	 */
 	public IntraFreq withPmax(Integer pmax) {
 		this.pmax = pmax;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -540,6 +638,7 @@ Corresponds to parameter threshServingLow specified in SIB3 in {{bibref|3GPP-TS.
 	 */
 	public void  setThreshServingLow(Long threshServingLow) {
 		this.threshServingLow = threshServingLow;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -553,6 +652,7 @@ Corresponds to parameter threshServingLow specified in SIB3 in {{bibref|3GPP-TS.
 	 */
 	public IntraFreq withThreshServingLow(Long threshServingLow) {
 		this.threshServingLow = threshServingLow;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -578,6 +678,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-Medium specified in SIB3 in {{
 	 */
 	public void  setTreselectionEUTRASFMedium(Long treselectionEUTRASFMedium) {
 		this.treselectionEUTRASFMedium = treselectionEUTRASFMedium;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -591,6 +692,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-Medium specified in SIB3 in {{
 	 */
 	public IntraFreq withTreselectionEUTRASFMedium(Long treselectionEUTRASFMedium) {
 		this.treselectionEUTRASFMedium = treselectionEUTRASFMedium;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -616,6 +718,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB3 in {{bi
 	 */
 	public void  setTreselectionEUTRASFHigh(Long treselectionEUTRASFHigh) {
 		this.treselectionEUTRASFHigh = treselectionEUTRASFHigh;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -629,6 +732,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB3 in {{bi
 	 */
 	public IntraFreq withTreselectionEUTRASFHigh(Long treselectionEUTRASFHigh) {
 		this.treselectionEUTRASFHigh = treselectionEUTRASFHigh;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to the carrier information for inter-freq re-selection scenario (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.3}}).
@@ -175,6 +178,16 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	@Size(min = 100, max = 100)
 	public Long treselectionEUTRASFHigh = 25L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Carrier() {
 	}
 
@@ -197,6 +210,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -208,6 +222,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public Carrier withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -229,6 +244,8 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -240,6 +257,8 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public Carrier withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -261,6 +280,8 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public void  setEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -272,6 +293,8 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public Carrier withEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -290,6 +313,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qrxLevMinSIB5;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a required minimum received RSRP level on this E-UTRA frequency carrier, spcified in dBm, with a numeric range between -70 and -22 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  The value of ({{param}} * 2) yields the actual value. Corresponds to parameter q-rxLevMin in SIB5 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.3.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQrxLevMinSIB5() {
+		return qrxLevMinSIB5 == null ? Collections.emptyList() : qrxLevMinSIB5;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a required minimum received RSRP level on this E-UTRA frequency carrier, spcified in dBm, with a numeric range between -70 and -22 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  The value of ({{param}} * 2) yields the actual value. Corresponds to parameter q-rxLevMin in SIB5 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.3.2}}.
 
@@ -302,6 +340,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQrxLevMinSIB5(Collection<String> qrxLevMinSIB5) {
 		this.qrxLevMinSIB5 = qrxLevMinSIB5;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -317,6 +356,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public Carrier withQrxLevMinSIB5(String string) {
 		getQrxLevMinSIB5().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -335,6 +375,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qoffsetFreq;
 	}
 
+	/**
+	 * Read the {{list}} Each item is an offset applicable between serving and this frequency carrier, specified in dBm, with a numeric range between -24 and 24 inclusive. For values less than or equal to -6, or values greater than or equal to 6, only the even values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter q-OffsetFreq in SIB5 specified in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.4.2.6}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQoffsetFreq() {
+		return qoffsetFreq == null ? Collections.emptyList() : qoffsetFreq;
+	}
+
 	/**
 	 * Set the {{list}} Each item is an offset applicable between serving and this frequency carrier, specified in dBm, with a numeric range between -24 and 24 inclusive. For values less than or equal to -6, or values greater than or equal to 6, only the even values are valid. If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value. The value of ({{param}} * 2) yields the actual value. Corresponds to parameter q-OffsetFreq in SIB5 specified in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.4.2.6}}.
 
@@ -347,6 +402,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQoffsetFreq(Collection<String> qoffsetFreq) {
 		this.qoffsetFreq = qoffsetFreq;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -362,6 +418,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public Carrier withQoffsetFreq(String string) {
 		getQoffsetFreq().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -380,6 +437,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return treselectionEUTRA;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a cell re-selection timer for inter-frequency cell re-selection to this E-UTRA frequency carrier, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to parameter t-ReselectionEUTRA specified in SIB5 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTreselectionEUTRA() {
+		return treselectionEUTRA == null ? Collections.emptyList() : treselectionEUTRA;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a cell re-selection timer for inter-frequency cell re-selection to this E-UTRA frequency carrier, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to parameter t-ReselectionEUTRA specified in SIB5 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -392,6 +464,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreselectionEUTRA(Collection<String> treselectionEUTRA) {
 		this.treselectionEUTRA = treselectionEUTRA;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -407,6 +480,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public Carrier withTreselectionEUTRA(String string) {
 		getTreselectionEUTRA().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -432,6 +506,7 @@ Corresponds to parameter CellReselectionPriority specified in SIB5 in {{bibref|3
 	 */
 	public void  setCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -445,6 +520,7 @@ Corresponds to parameter CellReselectionPriority specified in SIB5 in {{bibref|3
 	 */
 	public Carrier withCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -470,6 +546,7 @@ Corresponds to parameter threshX-High specified in SIB5 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -483,6 +560,7 @@ Corresponds to parameter threshX-High specified in SIB5 in {{bibref|3GPP-TS.36.3
 	 */
 	public Carrier withThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -508,6 +586,7 @@ Corresponds to parameter threshX-Low specified in SIB5 in {{bibref|3GPP-TS.36.33
 	 */
 	public void  setThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -521,6 +600,7 @@ Corresponds to parameter threshX-Low specified in SIB5 in {{bibref|3GPP-TS.36.33
 	 */
 	public Carrier withThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -546,6 +626,7 @@ Corresponds to parameter p-Max specified in SIB5 in {{bibref|3GPP-TS.36.331|Sect
 	 */
 	public void  setPmax(Integer pmax) {
 		this.pmax = pmax;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -559,6 +640,7 @@ Corresponds to parameter p-Max specified in SIB5 in {{bibref|3GPP-TS.36.331|Sect
 	 */
 	public Carrier withPmax(Integer pmax) {
 		this.pmax = pmax;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -584,6 +666,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-Medium specified in SIB5 in {{
 	 */
 	public void  setTreselectionEUTRASFMedium(Long treselectionEUTRASFMedium) {
 		this.treselectionEUTRASFMedium = treselectionEUTRASFMedium;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -597,6 +680,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-Medium specified in SIB5 in {{
 	 */
 	public Carrier withTreselectionEUTRASFMedium(Long treselectionEUTRASFMedium) {
 		this.treselectionEUTRASFMedium = treselectionEUTRASFMedium;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -622,6 +706,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public void  setTreselectionEUTRASFHigh(Long treselectionEUTRASFHigh) {
 		this.treselectionEUTRASFHigh = treselectionEUTRASFHigh;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -635,6 +720,7 @@ Corresponds to parameter t-ReselectionEUTRA-SF:sf-High specified in SIB5 in {{bi
 	 */
 	public Carrier withTreselectionEUTRASFHigh(Long treselectionEUTRASFHigh) {
 		this.treselectionEUTRASFHigh = treselectionEUTRASFHigh;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
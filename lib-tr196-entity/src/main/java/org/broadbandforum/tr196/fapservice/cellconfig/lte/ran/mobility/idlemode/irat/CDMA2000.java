@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode.irat.cdma2000.CDMA2000Band;
 
 	/**
@@ -101,6 +104,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@CWMPParameter(access = "readWrite")
 	public Collection<CDMA2000Band> cdmA2000Bands;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDMA2000() {
 	}
 
@@ -120,6 +128,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return searchWindowSize;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a CDMA2000 parameter affecting the search for neighbouring pilots, with a numeric range between 0 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter searchWindowSize in SIB8 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP2-C.S0005-A|Table 2.6.6.2.1-1}} and {{bibref|3GPP2-C.S0024-A|Table 8.7.6.2-4}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSearchWindowSize() {
+		return searchWindowSize == null ? Collections.emptyList() : searchWindowSize;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a CDMA2000 parameter affecting the search for neighbouring pilots, with a numeric range between 0 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter searchWindowSize in SIB8 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP2-C.S0005-A|Table 2.6.6.2.1-1}} and {{bibref|3GPP2-C.S0024-A|Table 8.7.6.2-4}}.
 
@@ -132,6 +155,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setSearchWindowSize(Collection<String> searchWindowSize) {
 		this.searchWindowSize = searchWindowSize;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -147,6 +171,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public CDMA2000 withSearchWindowSize(String string) {
 		getSearchWindowSize().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -165,6 +190,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return treselectionCDMA2000;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a cell re-selection timer for a CDMA2000 band, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionCDMA2000 specified in SIB8 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and to TreselectionCDMA_HRPD or TreselectionCDMA_1xRTT in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTreselectionCDMA2000() {
+		return treselectionCDMA2000 == null ? Collections.emptyList() : treselectionCDMA2000;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a cell re-selection timer for a CDMA2000 band, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionCDMA2000 specified in SIB8 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and to TreselectionCDMA_HRPD or TreselectionCDMA_1xRTT in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -177,6 +217,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreselectionCDMA2000(Collection<String> treselectionCDMA2000) {
 		this.treselectionCDMA2000 = treselectionCDMA2000;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -192,6 +233,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public CDMA2000 withTreselectionCDMA2000(String string) {
 		getTreselectionCDMA2000().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -213,6 +255,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreselectionCDMA2000SFMedium(Long treselectionCDMA2000SFMedium) {
 		this.treselectionCDMA2000SFMedium = treselectionCDMA2000SFMedium;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -224,6 +267,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public CDMA2000 withTreselectionCDMA2000SFMedium(Long treselectionCDMA2000SFMedium) {
 		this.treselectionCDMA2000SFMedium = treselectionCDMA2000SFMedium;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -245,6 +289,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreselectionCDMA2000SFHigh(Long treselectionCDMA2000SFHigh) {
 		this.treselectionCDMA2000SFHigh = treselectionCDMA2000SFHigh;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -256,6 +301,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public CDMA2000 withTreselectionCDMA2000SFHigh(Long treselectionCDMA2000SFHigh) {
 		this.treselectionCDMA2000SFHigh = treselectionCDMA2000SFHigh;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -277,6 +323,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMaxCDMA2000BandEntries(Long maxCDMA2000BandEntries) {
 		this.maxCDMA2000BandEntries = maxCDMA2000BandEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -288,6 +335,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public CDMA2000 withMaxCDMA2000BandEntries(Long maxCDMA2000BandEntries) {
 		this.maxCDMA2000BandEntries = maxCDMA2000BandEntries;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -297,10 +345,20 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 * @return the value
 	 */
 	public Collection<CDMA2000Band> getCdmA2000Bands() {
-		if (this.cdmA2000Bands == null){ this.cdmA2000Bands=new ArrayList<>();}
+		if (!(this.cdmA2000Bands instanceof InstanceTable)){ this.cdmA2000Bands=InstanceTable.of(this.cdmA2000Bands);}
 		return cdmA2000Bands;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to the channel frequncy related information of CDMA2000 system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.8}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CDMA2000Band> viewCdmA2000Bands() {
+		return cdmA2000Bands == null ? Collections.emptyList() : cdmA2000Bands;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to the channel frequncy related information of CDMA2000 system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.8}}).
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode.irat.geran.GERANFreqGroup;
 
 	/**
@@ -91,6 +94,11 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-High specified in SIB7 in {{bi
 	@CWMPParameter(access = "readWrite")
 	public Collection<GERANFreqGroup> gerANFreqGroups;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public GERAN() {
 	}
 
@@ -110,6 +118,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return treselectionGERAN;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a cell re-selection timer for re-selection to a GERAN frequency carrier, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionGERAN specified in SIB7 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and to TreselectionGERA in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTreselectionGERAN() {
+		return treselectionGERAN == null ? Collections.emptyList() : treselectionGERAN;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a cell re-selection timer for re-selection to a GERAN frequency carrier, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionGERAN specified in SIB7 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and to TreselectionGERA in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -122,6 +145,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreselectionGERAN(Collection<String> treselectionGERAN) {
 		this.treselectionGERAN = treselectionGERAN;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -137,6 +161,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public GERAN withTreselectionGERAN(String string) {
 		getTreselectionGERAN().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -162,6 +187,7 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-Medium specified in SIB7 in {{
 	 */
 	public void  setTreselectionGERANSFMedium(Long treselectionGERANSFMedium) {
 		this.treselectionGERANSFMedium = treselectionGERANSFMedium;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -175,6 +201,7 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-Medium specified in SIB7 in {{
 	 */
 	public GERAN withTreselectionGERANSFMedium(Long treselectionGERANSFMedium) {
 		this.treselectionGERANSFMedium = treselectionGERANSFMedium;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -200,6 +227,7 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-High specified in SIB7 in {{bi
 	 */
 	public void  setTreselectionGERANSFHigh(Long treselectionGERANSFHigh) {
 		this.treselectionGERANSFHigh = treselectionGERANSFHigh;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -213,6 +241,7 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-High specified in SIB7 in {{bi
 	 */
 	public GERAN withTreselectionGERANSFHigh(Long treselectionGERANSFHigh) {
 		this.treselectionGERANSFHigh = treselectionGERANSFHigh;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -234,6 +263,7 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-High specified in SIB7 in {{bi
 	 */
 	public void  setMaxGERANFreqGroupEntries(Long maxGERANFreqGroupEntries) {
 		this.maxGERANFreqGroupEntries = maxGERANFreqGroupEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -245,6 +275,7 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-High specified in SIB7 in {{bi
 	 */
 	public GERAN withMaxGERANFreqGroupEntries(Long maxGERANFreqGroupEntries) {
 		this.maxGERANFreqGroupEntries = maxGERANFreqGroupEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -254,10 +285,20 @@ Corresponds to parameter t-ReselectionGERAN-SF:sf-High specified in SIB7 in {{bi
 	 * @return the value
 	 */
 	public Collection<GERANFreqGroup> getGerANFreqGroups() {
-		if (this.gerANFreqGroups == null){ this.gerANFreqGroups=new ArrayList<>();}
+		if (!(this.gerANFreqGroups instanceof InstanceTable)){ this.gerANFreqGroups=InstanceTable.of(this.gerANFreqGroups);}
 		return gerANFreqGroups;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to the channel frequncy related information of GERAN (GSM) system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.7}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<GERANFreqGroup> viewGerANFreqGroups() {
+		return gerANFreqGroups == null ? Collections.emptyList() : gerANFreqGroups;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to the channel frequncy related information of GERAN (GSM) system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.7}}).
 	 *
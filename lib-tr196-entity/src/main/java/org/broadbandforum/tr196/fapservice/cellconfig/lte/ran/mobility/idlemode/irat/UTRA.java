@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode.irat.utra.UTRANFDDFreq;
 
 	/**
@@ -91,6 +94,11 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-High specified in SIB6 in {{bib
 	@CWMPParameter(access = "readWrite")
 	public Collection<UTRANFDDFreq> utrANFDDFreqs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UTRA() {
 	}
 
@@ -110,6 +118,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return treselectionUTRA;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a cell re-selection timer for re-selection to a UTRA frequency carrier, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionUTRA specified in SIB6 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTreselectionUTRA() {
+		return treselectionUTRA == null ? Collections.emptyList() : treselectionUTRA;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a cell re-selection timer for re-selection to a UTRA frequency carrier, specified in seconds, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter t-ReselectionUTRA specified in SIB6 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.36.304|Section 5.2.4.7}}.
 
@@ -122,6 +145,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreselectionUTRA(Collection<String> treselectionUTRA) {
 		this.treselectionUTRA = treselectionUTRA;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -137,6 +161,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRA withTreselectionUTRA(String string) {
 		getTreselectionUTRA().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -162,6 +187,7 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-Medium specified in SIB6 in {{b
 	 */
 	public void  setTreselectionUTRASFMedium(Long treselectionUTRASFMedium) {
 		this.treselectionUTRASFMedium = treselectionUTRASFMedium;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -175,6 +201,7 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-Medium specified in SIB6 in {{b
 	 */
 	public UTRA withTreselectionUTRASFMedium(Long treselectionUTRASFMedium) {
 		this.treselectionUTRASFMedium = treselectionUTRASFMedium;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -200,6 +227,7 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-High specified in SIB6 in {{bib
 	 */
 	public void  setTreselectionUTRASFHigh(Long treselectionUTRASFHigh) {
 		this.treselectionUTRASFHigh = treselectionUTRASFHigh;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -213,6 +241,7 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-High specified in SIB6 in {{bib
 	 */
 	public UTRA withTreselectionUTRASFHigh(Long treselectionUTRASFHigh) {
 		this.treselectionUTRASFHigh = treselectionUTRASFHigh;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -234,6 +263,7 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-High specified in SIB6 in {{bib
 	 */
 	public void  setMaxUTRANFDDFreqEntries(Long maxUTRANFDDFreqEntries) {
 		this.maxUTRANFDDFreqEntries = maxUTRANFDDFreqEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -245,6 +275,7 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-High specified in SIB6 in {{bib
 	 */
 	public UTRA withMaxUTRANFDDFreqEntries(Long maxUTRANFDDFreqEntries) {
 		this.maxUTRANFDDFreqEntries = maxUTRANFDDFreqEntries;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -254,10 +285,20 @@ Corresponds to parameter t-ReselectionUTRA-SF:sf-High specified in SIB6 in {{bib
 	 * @return the value
 	 */
 	public Collection<UTRANFDDFreq> getUtrANFDDFreqs() {
-		if (this.utrANFDDFreqs == null){ this.utrANFDDFreqs=new ArrayList<>();}
+		if (!(this.utrANFDDFreqs instanceof InstanceTable)){ this.utrANFDDFreqs=InstanceTable.of(this.utrANFDDFreqs);}
 		return utrANFDDFreqs;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to the channel frequncy related information of UTRA (UMTS) system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.5, 6.1.5.1.6}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<UTRANFDDFreq> viewUtrANFDDFreqs() {
+		return utrANFDDFreqs == null ? Collections.emptyList() : utrANFDDFreqs;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to the channel frequncy related information of UTRA (UMTS) system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.5, 6.1.5.1.6}}).
 	 *
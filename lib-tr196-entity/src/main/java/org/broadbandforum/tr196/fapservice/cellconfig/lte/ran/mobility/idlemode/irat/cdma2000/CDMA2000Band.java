@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to the channel frequncy related information of CDMA2000 system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.8}}).
@@ -93,6 +95,16 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	@Size(min = 0, max = 63)
 	public Long threshXLow = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CDMA2000Band() {
 	}
 
@@ -115,6 +127,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -126,6 +139,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000Band withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -147,6 +161,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -158,6 +174,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000Band withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -183,6 +201,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -196,6 +216,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000Band withBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -217,6 +239,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -228,6 +251,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000Band withCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -249,6 +273,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -260,6 +285,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000Band withThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -281,6 +307,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -292,6 +319,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000Band withThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
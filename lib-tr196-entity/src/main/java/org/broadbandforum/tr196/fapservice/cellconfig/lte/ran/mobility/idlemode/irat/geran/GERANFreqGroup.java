@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to the channel frequncy related information of GERAN (GSM) system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.7}}).
@@ -120,6 +123,16 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	@Size(min = 0, max = 31)
 	public Long threshXLow = 0L;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public GERANFreqGroup() {
 	}
 
@@ -142,6 +155,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -153,6 +167,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public GERANFreqGroup withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -174,6 +189,8 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -185,6 +202,8 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public GERANFreqGroup withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -206,6 +225,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -217,6 +237,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public GERANFreqGroup withBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -238,6 +259,8 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -249,6 +272,8 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public GERANFreqGroup withBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -267,6 +292,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qrxLevMin;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a required minimum received RSSI level on this GERAN frequency carrier for re-selection to this UTRA FDD carrier, specified in dBm, with a numeric range between 0 and 63 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  The value of ({{param}} * 2 - 115) yields the actual value.  Corresponds to parameter q-rxLevMin in SIB7 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and to RXLEV_ACCESS_MIN in {{bibref|3GPP-TS.45.008}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQrxLevMin() {
+		return qrxLevMin == null ? Collections.emptyList() : qrxLevMin;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a required minimum received RSSI level on this GERAN frequency carrier for re-selection to this UTRA FDD carrier, specified in dBm, with a numeric range between 0 and 63 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  The value of ({{param}} * 2 - 115) yields the actual value.  Corresponds to parameter q-rxLevMin in SIB7 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and to RXLEV_ACCESS_MIN in {{bibref|3GPP-TS.45.008}}.
 
@@ -279,6 +319,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQrxLevMin(Collection<String> qrxLevMin) {
 		this.qrxLevMin = qrxLevMin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -294,6 +335,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public GERANFreqGroup withQrxLevMin(String string) {
 		getQrxLevMin().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -319,6 +361,7 @@ Corresponds to parameter CellReselectionPriority specified in SIB7 in {{bibref|3
 	 */
 	public void  setCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -332,6 +375,7 @@ Corresponds to parameter CellReselectionPriority specified in SIB7 in {{bibref|3
 	 */
 	public GERANFreqGroup withCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -357,6 +401,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -370,6 +415,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public GERANFreqGroup withThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -391,6 +437,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -402,6 +449,7 @@ Corresponds to parameter threshX-High specified in SIB7 in {{bibref|3GPP-TS.36.3
 	 */
 	public GERANFreqGroup withThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.mobility.idlemode
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to the channel frequncy related information of UTRA (UMTS) system (see {{bibref|3GPP-TS.32.592|Section 6.1.5.1.5, 6.1.5.1.6}}).
@@ -131,6 +134,16 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@Size(min = -50, max = 33)
 	public Integer pmaxUTRA;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public UTRANFDDFreq() {
 	}
 
@@ -153,6 +166,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -164,6 +178,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -185,6 +200,8 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -196,6 +213,8 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -217,6 +236,8 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setUtrACarrierARFCN(Long utrACarrierARFCN) {
 		this.utrACarrierARFCN = utrACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -228,6 +249,8 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withUtrACarrierARFCN(Long utrACarrierARFCN) {
 		this.utrACarrierARFCN = utrACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -246,6 +269,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qrxLevMin;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a required minimum received RSCP level on this UTRA frequency carrier, specified in dBm, with a numeric range between -60 and -13 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  The value of ({{param}} * 2 + 1) yields the actual value. Corresponds to parameter q-RxLevMin in SIB6 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.25.304|Section 5.2.3.1.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQrxLevMin() {
+		return qrxLevMin == null ? Collections.emptyList() : qrxLevMin;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a required minimum received RSCP level on this UTRA frequency carrier, specified in dBm, with a numeric range between -60 and -13 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  The value of ({{param}} * 2 + 1) yields the actual value. Corresponds to parameter q-RxLevMin in SIB6 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.25.304|Section 5.2.3.1.2}}.
 
@@ -258,6 +296,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQrxLevMin(Collection<String> qrxLevMin) {
 		this.qrxLevMin = qrxLevMin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -273,6 +312,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withQrxLevMin(String string) {
 		getQrxLevMin().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -291,6 +331,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return qqualMin;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a required minimum received Ec/Io level on this UTRA FDD carrier, specified in dB, with a numeric range between -24 and 0 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter q-QualMin in SIB6 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.25.304|Section 5.2.3.1.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewQqualMin() {
+		return qqualMin == null ? Collections.emptyList() : qqualMin;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a required minimum received Ec/Io level on this UTRA FDD carrier, specified in dB, with a numeric range between -24 and 0 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to parameter q-QualMin in SIB6 in {{bibref|3GPP-TS.36.331|Section 6.3.1}} and in {{bibref|3GPP-TS.25.304|Section 5.2.3.1.2}}.
 
@@ -303,6 +358,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setQqualMin(Collection<String> qqualMin) {
 		this.qqualMin = qqualMin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -318,6 +374,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withQqualMin(String string) {
 		getQqualMin().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -339,6 +396,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -350,6 +408,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withCellReselectionPriority(Long cellReselectionPriority) {
 		this.cellReselectionPriority = cellReselectionPriority;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -371,6 +430,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -382,6 +442,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withThreshXHigh(Long threshXHigh) {
 		this.threshXHigh = threshXHigh;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -403,6 +464,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -414,6 +476,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withThreshXLow(Long threshXLow) {
 		this.threshXLow = threshXLow;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -435,6 +498,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPmaxUTRA(Integer pmaxUTRA) {
 		this.pmaxUTRA = pmaxUTRA;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -446,6 +510,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public UTRANFDDFreq withPmaxUTRA(Integer pmaxUTRA) {
 		this.pmaxUTRA = pmaxUTRA;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
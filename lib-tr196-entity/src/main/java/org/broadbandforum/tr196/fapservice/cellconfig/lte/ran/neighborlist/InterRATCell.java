@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlist;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlist.interratcell.CDMA2000;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlist.interratcell.GSM;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlist.interratcell.UMTS;
@@ -83,6 +85,11 @@ public class InterRATCell {
 	@CWMPParameter(access = "readWrite")
 	public Collection<CDMA2000> cdmA2000s;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterRATCell() {
 	}
 
@@ -105,6 +112,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxUMTSEntries(Long maxUMTSEntries) {
 		this.maxUMTSEntries = maxUMTSEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -116,6 +124,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxUMTSEntries(Long maxUMTSEntries) {
 		this.maxUMTSEntries = maxUMTSEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -137,6 +146,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -148,6 +158,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -169,6 +180,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxCDMA2000Entries(Long maxCDMA2000Entries) {
 		this.maxCDMA2000Entries = maxCDMA2000Entries;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -180,6 +192,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxCDMA2000Entries(Long maxCDMA2000Entries) {
 		this.maxCDMA2000Entries = maxCDMA2000Entries;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -189,10 +202,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<UMTS> getUmtSs() {
-		if (this.umtSs == null){ this.umtSs=new ArrayList<>();}
+		if (!(this.umtSs instanceof InstanceTable)){ this.umtSs=InstanceTable.of(this.umtSs);}
 		return umtSs;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for UTRA (UMTS) provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<UMTS> viewUmtSs() {
+		return umtSs == null ? Collections.emptyList() : umtSs;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for UTRA (UMTS) provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
 	 *
@@ -219,10 +242,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<GSM> getGsms() {
-		if (this.gsms == null){ this.gsms=new ArrayList<>();}
+		if (!(this.gsms instanceof InstanceTable)){ this.gsms=InstanceTable.of(this.gsms);}
 		return gsms;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for GERAN (GSM) provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<GSM> viewGsms() {
+		return gsms == null ? Collections.emptyList() : gsms;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for GERAN (GSM) provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
 	 *
@@ -249,10 +282,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<CDMA2000> getCdmA2000s() {
-		if (this.cdmA2000s == null){ this.cdmA2000s=new ArrayList<>();}
+		if (!(this.cdmA2000s instanceof InstanceTable)){ this.cdmA2000s=InstanceTable.of(this.cdmA2000s);}
 		return cdmA2000s;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for CDMA2000 provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CDMA2000> viewCdmA2000s() {
+		return cdmA2000s == null ? Collections.emptyList() : cdmA2000s;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for CDMA2000 provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
 	 *
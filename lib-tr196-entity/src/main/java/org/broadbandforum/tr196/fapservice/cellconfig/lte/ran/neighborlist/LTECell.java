@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the E-UTRA (i.e. intra-RAT) cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
@@ -140,6 +142,16 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	@CWMPParameter(access = "readWrite")
 	public Boolean blacklisted;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LTECell() {
 	}
 
@@ -162,6 +174,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -173,6 +186,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -194,6 +208,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -205,6 +221,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -226,6 +244,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -237,6 +256,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -270,6 +290,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -287,6 +309,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -308,6 +332,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -319,6 +345,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -340,6 +368,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -351,6 +380,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -372,6 +402,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPhyCellID(Long phyCellID) {
 		this.phyCellID = phyCellID;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -383,6 +414,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withPhyCellID(Long phyCellID) {
 		this.phyCellID = phyCellID;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -404,6 +436,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setQoffset(Integer qoffset) {
 		this.qoffset = qoffset;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -415,6 +448,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withQoffset(Integer qoffset) {
 		this.qoffset = qoffset;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -436,6 +470,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setCio(Integer cio) {
 		this.cio = cio;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -447,6 +482,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withCio(Integer cio) {
 		this.cio = cio;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -468,6 +504,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setRstxPower(Integer rstxPower) {
 		this.rstxPower = rstxPower;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -479,6 +516,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withRstxPower(Integer rstxPower) {
 		this.rstxPower = rstxPower;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -500,6 +538,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setBlacklisted(Boolean blacklisted) {
 		this.blacklisted = blacklisted;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -511,6 +550,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withBlacklisted(Boolean blacklisted) {
 		this.blacklisted = blacklisted;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
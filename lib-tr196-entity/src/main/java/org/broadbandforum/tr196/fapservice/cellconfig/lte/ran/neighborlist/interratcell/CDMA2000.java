@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-RAT cell list for CDMA2000 provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
@@ -109,6 +111,16 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	@Size(max = 16)
 	public String cid;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CDMA2000() {
 	}
 
@@ -131,6 +143,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -142,6 +155,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -163,6 +177,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -174,6 +190,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -195,6 +213,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -206,6 +225,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -231,6 +251,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -244,6 +265,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -265,6 +287,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setArfCN(Long arfCN) {
 		this.arfCN = arfCN;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -276,6 +299,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withArfCN(Long arfCN) {
 		this.arfCN = arfCN;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -297,6 +321,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setPnoffset(Long pnoffset) {
 		this.pnoffset = pnoffset;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -308,6 +333,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withPnoffset(Long pnoffset) {
 		this.pnoffset = pnoffset;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -329,6 +355,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -340,6 +367,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -361,6 +389,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setCid(String cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -372,6 +402,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withCid(String cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-RAT cell list for UTRA (UMTS) provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
@@ -177,6 +179,16 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	@Size(min = -100, max = 500)
 	public Integer pcpICHTxPower;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public UMTS() {
 	}
 
@@ -199,6 +211,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -210,6 +223,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public UMTS withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -231,6 +245,8 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -242,6 +258,8 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public UMTS withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -263,6 +281,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -274,6 +293,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public UMTS withMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -307,6 +327,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -324,6 +346,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public UMTS withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -357,6 +381,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -374,6 +399,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -395,6 +421,8 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -406,6 +434,8 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -431,6 +461,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -444,6 +475,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -469,6 +501,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -482,6 +515,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -511,6 +545,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -526,6 +561,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -547,6 +583,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -558,6 +595,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -579,6 +617,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -590,6 +629,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -611,6 +651,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -622,6 +663,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -651,6 +693,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -666,6 +709,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public UMTS withPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
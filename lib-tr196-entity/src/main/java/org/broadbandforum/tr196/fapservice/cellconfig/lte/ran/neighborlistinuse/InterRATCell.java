@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlistinuse;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlistinuse.interratcell.CDMA2000;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlistinuse.interratcell.GSM;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.neighborlistinuse.interratcell.UMTS;
@@ -79,6 +81,11 @@ public class InterRATCell {
 	@XmlElement(name = "CDMA2000")
 	public Collection<CDMA2000> cdmA2000s;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterRATCell() {
 	}
 
@@ -101,6 +108,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxUMTSEntries(Long maxUMTSEntries) {
 		this.maxUMTSEntries = maxUMTSEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +120,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxUMTSEntries(Long maxUMTSEntries) {
 		this.maxUMTSEntries = maxUMTSEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +142,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -144,6 +154,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -165,6 +176,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxCDMA2000Entries(Long maxCDMA2000Entries) {
 		this.maxCDMA2000Entries = maxCDMA2000Entries;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -176,6 +188,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxCDMA2000Entries(Long maxCDMA2000Entries) {
 		this.maxCDMA2000Entries = maxCDMA2000Entries;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,10 +198,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<UMTS> getUmtSs() {
-		if (this.umtSs == null){ this.umtSs=new ArrayList<>();}
+		if (!(this.umtSs instanceof InstanceTable)){ this.umtSs=InstanceTable.of(this.umtSs);}
 		return umtSs;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for UTRA (UMTS) cell.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<UMTS> viewUmtSs() {
+		return umtSs == null ? Collections.emptyList() : umtSs;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for UTRA (UMTS) cell.
 	 *
@@ -215,10 +238,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<GSM> getGsms() {
-		if (this.gsms == null){ this.gsms=new ArrayList<>();}
+		if (!(this.gsms instanceof InstanceTable)){ this.gsms=InstanceTable.of(this.gsms);}
 		return gsms;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for GERAN (GSM) cell.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<GSM> viewGsms() {
+		return gsms == null ? Collections.emptyList() : gsms;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for GERAN (GSM) cell.
 	 *
@@ -245,10 +278,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<CDMA2000> getCdmA2000s() {
-		if (this.cdmA2000s == null){ this.cdmA2000s=new ArrayList<>();}
+		if (!(this.cdmA2000s instanceof InstanceTable)){ this.cdmA2000s=InstanceTable.of(this.cdmA2000s);}
 		return cdmA2000s;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for CDMA2000 cell.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CDMA2000> viewCdmA2000s() {
+		return cdmA2000s == null ? Collections.emptyList() : cdmA2000s;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for CDMA2000 cell.
 	 *
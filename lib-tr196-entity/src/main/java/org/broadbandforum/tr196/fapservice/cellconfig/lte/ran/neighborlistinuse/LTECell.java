@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the LTE EUTRA (i.e. intra-RAT) cell list.
@@ -109,6 +111,16 @@ Specified by cellIndividualOffset in MeasObjectEUTRA IE in {{bibref|3GPP-TS.36.3
 	@XmlElement(name = "Blacklisted")
 	public Boolean blacklisted;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public LTECell() {
 	}
 
@@ -143,6 +155,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -160,6 +174,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -181,6 +197,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -192,6 +210,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -213,6 +233,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -224,6 +245,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -245,6 +267,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPhyCellID(Long phyCellID) {
 		this.phyCellID = phyCellID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -256,6 +279,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public LTECell withPhyCellID(Long phyCellID) {
 		this.phyCellID = phyCellID;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -281,6 +305,7 @@ Corresponds to parameter q-OffsetCell broadcast in SIB4 for intra-frequency cell
 	 */
 	public void  setQoffset(Integer qoffset) {
 		this.qoffset = qoffset;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -294,6 +319,7 @@ Corresponds to parameter q-OffsetCell broadcast in SIB4 for intra-frequency cell
 	 */
 	public LTECell withQoffset(Integer qoffset) {
 		this.qoffset = qoffset;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -319,6 +345,7 @@ Specified by cellIndividualOffset in MeasObjectEUTRA IE in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setCio(Integer cio) {
 		this.cio = cio;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -332,6 +359,7 @@ Specified by cellIndividualOffset in MeasObjectEUTRA IE in {{bibref|3GPP-TS.36.3
 	 */
 	public LTECell withCio(Integer cio) {
 		this.cio = cio;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -353,6 +381,7 @@ Specified by cellIndividualOffset in MeasObjectEUTRA IE in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setRstxPower(Integer rstxPower) {
 		this.rstxPower = rstxPower;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -364,6 +393,7 @@ Specified by cellIndividualOffset in MeasObjectEUTRA IE in {{bibref|3GPP-TS.36.3
 	 */
 	public LTECell withRstxPower(Integer rstxPower) {
 		this.rstxPower = rstxPower;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -385,6 +415,7 @@ Specified by cellIndividualOffset in MeasObjectEUTRA IE in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setBlacklisted(Boolean blacklisted) {
 		this.blacklisted = blacklisted;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -396,6 +427,7 @@ Specified by cellIndividualOffset in MeasObjectEUTRA IE in {{bibref|3GPP-TS.36.3
 	 */
 	public LTECell withBlacklisted(Boolean blacklisted) {
 		this.blacklisted = blacklisted;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-RAT cell list for CDMA2000 cell.
@@ -77,6 +79,16 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	@Size(max = 16)
 	public String cid;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CDMA2000() {
 	}
 
@@ -103,6 +115,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -116,6 +129,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -137,6 +151,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setArfCN(Long arfCN) {
 		this.arfCN = arfCN;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -148,6 +163,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withArfCN(Long arfCN) {
 		this.arfCN = arfCN;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -169,6 +185,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setPnoffset(Long pnoffset) {
 		this.pnoffset = pnoffset;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -180,6 +197,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withPnoffset(Long pnoffset) {
 		this.pnoffset = pnoffset;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -201,6 +219,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -212,6 +231,7 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withType(String type) {
 		this.type = type;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -233,6 +253,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public void  setCid(String cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -244,6 +266,8 @@ Corresponds to parameter bandClass specified in SIB8 in {{bibref|3GPP-TS.36.331|
 	 */
 	public CDMA2000 withCid(String cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-RAT cell list for GERAN (GSM) cell.
@@ -99,6 +101,16 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	@Size(min = 0, max = 1023)
 	public Long bccHARFCN;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public GSM() {
 	}
 
@@ -133,6 +145,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -150,6 +164,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public GSM withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -175,6 +191,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -188,6 +206,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public GSM withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -225,6 +245,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -244,6 +265,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -265,6 +287,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -276,6 +300,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -297,6 +323,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -308,6 +335,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -329,6 +357,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -340,6 +369,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-RAT cell list for UTRA (UMTS) cell.
@@ -140,6 +142,16 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	@Size(min = -100, max = 500)
 	public Integer pcpICHTxPower;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public UMTS() {
 	}
 
@@ -174,6 +186,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -191,6 +205,8 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public UMTS withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -224,6 +240,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -241,6 +258,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -262,6 +280,8 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -273,6 +293,8 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -298,6 +320,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -311,6 +334,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -336,6 +360,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -349,6 +374,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public UMTS withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -378,6 +404,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -393,6 +420,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -414,6 +442,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -425,6 +454,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -446,6 +476,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -457,6 +488,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -478,6 +510,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -489,6 +522,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public UMTS withPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -518,6 +552,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -533,6 +568,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public UMTS withPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the antenna configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.1}}).
@@ -43,6 +44,11 @@ public class AntennaInfo {
 	@Size(min = 4, max = 4)
 	public Long antennaPortsCount;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AntennaInfo() {
 	}
 
@@ -65,6 +71,7 @@ public class AntennaInfo {
 	 */
 	public void  setAntennaPortsCount(Long antennaPortsCount) {
 		this.antennaPortsCount = antennaPortsCount;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -76,6 +83,7 @@ public class AntennaInfo {
 	 */
 	public AntennaInfo withAntennaPortsCount(Long antennaPortsCount) {
 		this.antennaPortsCount = antennaPortsCount;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy.mbsfn.SFConfigList;
 
 	/**
@@ -71,6 +73,11 @@ Value 3: Different UL/DL allocation in neighbouring cells for TDD compared to th
 	@CWMPParameter(access = "readWrite")
 	public Collection<SFConfigList> sfconfigLists;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MBSFN() {
 	}
 
@@ -109,6 +116,7 @@ Value 3: Different UL/DL allocation in neighbouring cells for TDD compared to th
 	 */
 	public void  setNeighCellConfig(Long neighCellConfig) {
 		this.neighCellConfig = neighCellConfig;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -128,6 +136,7 @@ Value 3: Different UL/DL allocation in neighbouring cells for TDD compared to th
 	 */
 	public MBSFN withNeighCellConfig(Long neighCellConfig) {
 		this.neighCellConfig = neighCellConfig;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -149,6 +158,7 @@ Value 3: Different UL/DL allocation in neighbouring cells for TDD compared to th
 	 */
 	public void  setMaxSFConfigListEntries(Long maxSFConfigListEntries) {
 		this.maxSFConfigListEntries = maxSFConfigListEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -160,6 +170,7 @@ Value 3: Different UL/DL allocation in neighbouring cells for TDD compared to th
 	 */
 	public MBSFN withMaxSFConfigListEntries(Long maxSFConfigListEntries) {
 		this.maxSFConfigListEntries = maxSFConfigListEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -169,10 +180,20 @@ Value 3: Different UL/DL allocation in neighbouring cells for TDD compared to th
 	 * @return the value
 	 */
 	public Collection<SFConfigList> getSfconfigLists() {
-		if (this.sfconfigLists == null){ this.sfconfigLists=new ArrayList<>();}
+		if (!(this.sfconfigLists instanceof InstanceTable)){ this.sfconfigLists=InstanceTable.of(this.sfconfigLists);}
 		return sfconfigLists;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to the sub-frame that are reserved for MBSFN (Multimedia Broadcast multicast service Single Frequency Network) in downlink direction.  For FDD mode, only one entry can exist in this table. For TDD mode, at most one entry can exist with a given value of stratumID (see {{bibref|3GPP-TS.32.592|Section 6.1.1.8}}).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<SFConfigList> viewSfconfigLists() {
+		return sfconfigLists == null ? Collections.emptyList() : sfconfigLists;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to the sub-frame that are reserved for MBSFN (Multimedia Broadcast multicast service Single Frequency Network) in downlink direction.  For FDD mode, only one entry can exist in this table. For TDD mode, at most one entry can exist with a given value of stratumID (see {{bibref|3GPP-TS.32.592|Section 6.1.1.8}}).
 	 *
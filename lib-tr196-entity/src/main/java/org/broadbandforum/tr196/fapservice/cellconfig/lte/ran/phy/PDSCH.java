@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the PDSCH (Physical Downlink Shared Channel) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.2}}).
@@ -64,6 +66,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@Size(min = 300, max = 300)
 	public Integer pa;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PDSCH() {
 	}
 
@@ -83,6 +90,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return pb;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a Eb/Ea value with a numeric range between 0 and 3 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of this parameter is the same for all UEs in the cell. Eb repsents EPRE of PDSCH REs type B, i.e. REs in OFDM symbols that include reference symbols, as specified in {{bibref|3GPP-TS.36.213|Section 5.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPb() {
+		return pb == null ? Collections.emptyList() : pb;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a Eb/Ea value with a numeric range between 0 and 3 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. The value of this parameter is the same for all UEs in the cell. Eb repsents EPRE of PDSCH REs type B, i.e. REs in OFDM symbols that include reference symbols, as specified in {{bibref|3GPP-TS.36.213|Section 5.2}}.
 
@@ -95,6 +117,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPb(Collection<String> pb) {
 		this.pb = pb;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +133,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PDSCH withPb(String string) {
 		getPb().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +159,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPa(Integer pa) {
 		this.pa = pa;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -148,6 +173,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PDSCH withPa(Integer pa) {
 		this.pa = pa;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
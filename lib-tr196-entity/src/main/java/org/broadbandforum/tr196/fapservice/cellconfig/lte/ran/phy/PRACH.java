@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the PRACH (Physical Random Access Channel) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.4}}).
@@ -107,6 +109,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@XmlList
 	public Collection<String> freqOffset;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PRACH() {
 	}
 
@@ -126,6 +133,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return rootSequenceIndex;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a Logical root sequence index with a numeric range between 0 and 837 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Logical root sequence index is used to determine 64 physical RACH preamble sequences available in the cell. Corresponds to RACH_ROOT_SEQUENCE parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and {{bibref|3GPP-TS.36.211|Section 5.7.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRootSequenceIndex() {
+		return rootSequenceIndex == null ? Collections.emptyList() : rootSequenceIndex;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a Logical root sequence index with a numeric range between 0 and 837 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Logical root sequence index is used to determine 64 physical RACH preamble sequences available in the cell. Corresponds to RACH_ROOT_SEQUENCE parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and {{bibref|3GPP-TS.36.211|Section 5.7.2}}.
 
@@ -138,6 +160,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setRootSequenceIndex(Collection<String> rootSequenceIndex) {
 		this.rootSequenceIndex = rootSequenceIndex;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -153,6 +176,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PRACH withRootSequenceIndex(String string) {
 		getRootSequenceIndex().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -171,6 +195,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return configurationIndex;
 	}
 
+	/**
+	 * Read the {{list}} Each item is an index to the table defining PRACH resources within the frame with a numeric range between 0 and 63 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to PRACH-Configuration-Index parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and {{bibref|3GPP-TS.36.211|Section 5.7.1}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewConfigurationIndex() {
+		return configurationIndex == null ? Collections.emptyList() : configurationIndex;
+	}
+
 	/**
 	 * Set the {{list}} Each item is an index to the table defining PRACH resources within the frame with a numeric range between 0 and 63 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to PRACH-Configuration-Index parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and {{bibref|3GPP-TS.36.211|Section 5.7.1}}.
 
@@ -183,6 +222,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setConfigurationIndex(Collection<String> configurationIndex) {
 		this.configurationIndex = configurationIndex;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -198,6 +238,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PRACH withConfigurationIndex(String string) {
 		getConfigurationIndex().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -227,6 +268,7 @@ Corresponds to highSpeedFlag parameter defined in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setHighSpeedFlag(Boolean highSpeedFlag) {
 		this.highSpeedFlag = highSpeedFlag;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -242,6 +284,7 @@ Corresponds to highSpeedFlag parameter defined in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public PRACH withHighSpeedFlag(Boolean highSpeedFlag) {
 		this.highSpeedFlag = highSpeedFlag;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -260,6 +303,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return zeroCorrelationZoneConfig;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value used for preamble sequence generation with a numeric range between 0 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Each item corresponds to zeroCorrelationZoneConfig parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and to NCS parameter  defined in {{bibref|3GPP-TS.36.211|Section 5.7.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewZeroCorrelationZoneConfig() {
+		return zeroCorrelationZoneConfig == null ? Collections.emptyList() : zeroCorrelationZoneConfig;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value used for preamble sequence generation with a numeric range between 0 and 15 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Each item corresponds to zeroCorrelationZoneConfig parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and to NCS parameter  defined in {{bibref|3GPP-TS.36.211|Section 5.7.2}}.
 
@@ -272,6 +330,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setZeroCorrelationZoneConfig(Collection<String> zeroCorrelationZoneConfig) {
 		this.zeroCorrelationZoneConfig = zeroCorrelationZoneConfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -287,6 +346,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PRACH withZeroCorrelationZoneConfig(String string) {
 		getZeroCorrelationZoneConfig().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -305,6 +365,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return freqOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item represents the first available physical resource block number for PRACH. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to prach-FreqOffset parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and nPRBoffsetRA parameter defined {{bibref|3GPP-TS.36.211|Section 5.7.1}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFreqOffset() {
+		return freqOffset == null ? Collections.emptyList() : freqOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item represents the first available physical resource block number for PRACH. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to prach-FreqOffset parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and nPRBoffsetRA parameter defined {{bibref|3GPP-TS.36.211|Section 5.7.1}}.
 
@@ -317,6 +392,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setFreqOffset(Collection<String> freqOffset) {
 		this.freqOffset = freqOffset;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -332,6 +408,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PRACH withFreqOffset(String string) {
 		getFreqOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
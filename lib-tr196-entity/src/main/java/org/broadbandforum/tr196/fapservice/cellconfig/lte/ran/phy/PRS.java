@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the PRS (Positioning Reference Signal) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.9}}).
@@ -62,6 +63,11 @@ public class PRS {
 	@Size(min = 6, max = 6)
 	public Long numConsecutivePRSSubfames;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PRS() {
 	}
 
@@ -84,6 +90,7 @@ public class PRS {
 	 */
 	public void  setNumPRSResourceBlocks(Long numPRSResourceBlocks) {
 		this.numPRSResourceBlocks = numPRSResourceBlocks;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ public class PRS {
 	 */
 	public PRS withNumPRSResourceBlocks(Long numPRSResourceBlocks) {
 		this.numPRSResourceBlocks = numPRSResourceBlocks;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class PRS {
 	 */
 	public void  setPrsConfigurationIndex(Long prsConfigurationIndex) {
 		this.prsConfigurationIndex = prsConfigurationIndex;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ public class PRS {
 	 */
 	public PRS withPrsConfigurationIndex(Long prsConfigurationIndex) {
 		this.prsConfigurationIndex = prsConfigurationIndex;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class PRS {
 	 */
 	public void  setNumConsecutivePRSSubfames(Long numConsecutivePRSSubfames) {
 		this.numConsecutivePRSSubfames = numConsecutivePRSSubfames;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -159,6 +170,7 @@ public class PRS {
 	 */
 	public PRS withNumConsecutivePRSSubfames(Long numConsecutivePRSSubfames) {
 		this.numConsecutivePRSSubfames = numConsecutivePRSSubfames;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
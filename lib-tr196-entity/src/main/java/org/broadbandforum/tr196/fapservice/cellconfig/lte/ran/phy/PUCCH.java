@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the PUCCH (Physical Uplink Control Channel) configuration. (see {{bibref|3GPP-TS.32.592|Section 6.1.1.5}})
@@ -115,6 +117,11 @@ This parameter corresponds to the K IE specified in {{bibref|3GPP-TS.36.331|Sect
 	@Size(min = 1, max = 4)
 	public Long k;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PUCCH() {
 	}
 
@@ -145,6 +152,7 @@ Corresponds to deltaPUCCH-Shift parameter defined in {{bibref|3GPP-TS.36.331|Sec
 	 */
 	public void  setDeltaPUCCHShift(String deltaPUCCHShift) {
 		this.deltaPUCCHShift = deltaPUCCHShift;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -160,6 +168,7 @@ Corresponds to deltaPUCCH-Shift parameter defined in {{bibref|3GPP-TS.36.331|Sec
 	 */
 	public PUCCH withDeltaPUCCHShift(String deltaPUCCHShift) {
 		this.deltaPUCCHShift = deltaPUCCHShift;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -178,6 +187,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return nrbCQI;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value that defines the bandwidth in terms of resource blocks available for use by PUCCH formats 2/2a/2b transmission in each slot, with a numeric range between 0 and 98 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to nRB-CQI parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and NRB(2) parameter defined {{bibref|3GPP-TS.36.211|Section 5.4}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive.If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewNrbCQI() {
+		return nrbCQI == null ? Collections.emptyList() : nrbCQI;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value that defines the bandwidth in terms of resource blocks available for use by PUCCH formats 2/2a/2b transmission in each slot, with a numeric range between 0 and 98 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to nRB-CQI parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and NRB(2) parameter defined {{bibref|3GPP-TS.36.211|Section 5.4}}.
 
@@ -190,6 +214,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setNrbCQI(Collection<String> nrbCQI) {
 		this.nrbCQI = nrbCQI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -205,6 +230,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PUCCH withNrbCQI(String string) {
 		getNrbCQI().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -234,6 +260,7 @@ Corresponds to nCS-AN parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2
 	 */
 	public void  setNcsAN(Long ncsAN) {
 		this.ncsAN = ncsAN;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -249,6 +276,7 @@ Corresponds to nCS-AN parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2
 	 */
 	public PUCCH withNcsAN(Long ncsAN) {
 		this.ncsAN = ncsAN;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -267,6 +295,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return n1pUCCHAN;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value that determines resources used for transmission of PUCCH format 1/1a/1b and 2/2a/2b, with a numeric range between 0 and 2047 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to n1PUCCH-AN parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and NPUCCH(1) parameter defined {{bibref|3GPP-TS.36.213|Section 10.1}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewN1pUCCHAN() {
+		return n1pUCCHAN == null ? Collections.emptyList() : n1pUCCHAN;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value that determines resources used for transmission of PUCCH format 1/1a/1b and 2/2a/2b, with a numeric range between 0 and 2047 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.  Corresponds to n1PUCCH-AN parameter defined in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and NPUCCH(1) parameter defined {{bibref|3GPP-TS.36.213|Section 10.1}}.
 
@@ -279,6 +322,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setN1pUCCHAN(Collection<String> n1pUCCHAN) {
 		this.n1pUCCHAN = n1pUCCHAN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -294,6 +338,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PUCCH withN1pUCCHAN(String string) {
 		getN1pUCCHAN().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -312,6 +357,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return cqiPUCCHResourceIndex;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value that indicates the position of PUCCH, with a numeric range between 0 and 1185 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. . Corresponds to the cqi-PUCCH-ResourceIndex IE specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}}. and to parameter nPUCCH(2) specified in {{bibref|3GPP-TS.36.213|Section 7.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewCqiPUCCHResourceIndex() {
+		return cqiPUCCHResourceIndex == null ? Collections.emptyList() : cqiPUCCHResourceIndex;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value that indicates the position of PUCCH, with a numeric range between 0 and 1185 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. . Corresponds to the cqi-PUCCH-ResourceIndex IE specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}}. and to parameter nPUCCH(2) specified in {{bibref|3GPP-TS.36.213|Section 7.2}}.
 
@@ -324,6 +384,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setCqiPUCCHResourceIndex(Collection<String> cqiPUCCHResourceIndex) {
 		this.cqiPUCCHResourceIndex = cqiPUCCHResourceIndex;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -339,6 +400,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PUCCH withCqiPUCCHResourceIndex(String string) {
 		getCqiPUCCHResourceIndex().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -364,6 +426,7 @@ This parameter corresponds to the K IE specified in {{bibref|3GPP-TS.36.331|Sect
 	 */
 	public void  setK(Long k) {
 		this.k = k;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -377,6 +440,7 @@ This parameter corresponds to the K IE specified in {{bibref|3GPP-TS.36.331|Sect
 	 */
 	public PUCCH withK(Long k) {
 		this.k = k;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
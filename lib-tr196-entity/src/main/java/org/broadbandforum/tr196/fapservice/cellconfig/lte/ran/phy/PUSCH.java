@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy.pusch.ULRS;
 
 	/**
@@ -85,6 +87,11 @@ Corresponds to enable64QAM parameter specified in {{bibref|3GPP-TS.36.331|Sectio
 	@XmlElement(name = "ULRS")
 	public ULRS ulrS;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PUSCH() {
 	}
 
@@ -107,6 +114,7 @@ Corresponds to enable64QAM parameter specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setNsb(Long nsb) {
 		this.nsb = nsb;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +126,7 @@ Corresponds to enable64QAM parameter specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public PUSCH withNsb(Long nsb) {
 		this.nsb = nsb;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -139,6 +148,7 @@ Corresponds to enable64QAM parameter specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setHoppingMode(String hoppingMode) {
 		this.hoppingMode = hoppingMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -150,6 +160,7 @@ Corresponds to enable64QAM parameter specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public PUSCH withHoppingMode(String hoppingMode) {
 		this.hoppingMode = hoppingMode;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -168,6 +179,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return hoppingOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value to compute the set of physical resource blocks to be used for transmission on PUSCH if uplink frequency hopping mode is enabled, with a numeric range between 0 and 98 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.   This parameter corresponds to pusch-HoppingOffset parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and NRBHO parameter specified in {{bibref|3GPP-TS.36.211|Section 5.3.4}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewHoppingOffset() {
+		return hoppingOffset == null ? Collections.emptyList() : hoppingOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value to compute the set of physical resource blocks to be used for transmission on PUSCH if uplink frequency hopping mode is enabled, with a numeric range between 0 and 98 inclusive. In case there is more than one item in the list, the first item contains the most preferred value.   This parameter corresponds to pusch-HoppingOffset parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and NRBHO parameter specified in {{bibref|3GPP-TS.36.211|Section 5.3.4}}.
 
@@ -180,6 +206,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setHoppingOffset(Collection<String> hoppingOffset) {
 		this.hoppingOffset = hoppingOffset;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -195,6 +222,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public PUSCH withHoppingOffset(String string) {
 		getHoppingOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -220,6 +248,7 @@ Corresponds to enable64QAM parameter specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setEnable64QAM(Boolean enable64QAM) {
 		this.enable64QAM = enable64QAM;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -233,6 +262,7 @@ Corresponds to enable64QAM parameter specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public PUSCH withEnable64QAM(Boolean enable64QAM) {
 		this.enable64QAM = enable64QAM;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
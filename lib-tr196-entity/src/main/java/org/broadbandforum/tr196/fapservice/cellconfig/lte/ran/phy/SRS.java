@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the UL SRS (Sounding Reference Signal) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.3}}).
@@ -91,6 +93,11 @@ Corresponds to ackNackSRS-SimultaneousTransmission specfied in {{bibref|3GPP-TS.
 	@CWMPParameter(access = "readWrite")
 	public Boolean ackNackSRSSimultaneousTransmission;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SRS() {
 	}
 
@@ -121,6 +128,7 @@ Corresponds to SoundingRS-UL-ConfigCommonIE defined in {{bibref|3GPP-TS.36.331|S
 	 */
 	public void  setSrsEnabled(Boolean srsEnabled) {
 		this.srsEnabled = srsEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +144,7 @@ Corresponds to SoundingRS-UL-ConfigCommonIE defined in {{bibref|3GPP-TS.36.331|S
 	 */
 	public SRS withSrsEnabled(Boolean srsEnabled) {
 		this.srsEnabled = srsEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -154,6 +163,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return srsBandwidthConfig;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a index into tables of cell specific SRS Bandwidth Configuration, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. SRS Bandwidth Configuration tables are specified in {{bibref|3GPP-TS.36.211|Table 5.5.3.2-1, 5.5.3.2-2, 5.5.3.2-3 and 5.5.3.2– 4}}. Corresponds to srs-BandwidthConfig IE specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSrsBandwidthConfig() {
+		return srsBandwidthConfig == null ? Collections.emptyList() : srsBandwidthConfig;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a index into tables of cell specific SRS Bandwidth Configuration, with a numeric range between 0 and 7 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. SRS Bandwidth Configuration tables are specified in {{bibref|3GPP-TS.36.211|Table 5.5.3.2-1, 5.5.3.2-2, 5.5.3.2-3 and 5.5.3.2– 4}}. Corresponds to srs-BandwidthConfig IE specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}}.
 
@@ -166,6 +190,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setSrsBandwidthConfig(Collection<String> srsBandwidthConfig) {
 		this.srsBandwidthConfig = srsBandwidthConfig;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -181,6 +206,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public SRS withSrsBandwidthConfig(String string) {
 		getSrsBandwidthConfig().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -214,6 +240,7 @@ This parameter is applicable to TDD mode only.
 	 */
 	public void  setSrsMaxUpPTS(Boolean srsMaxUpPTS) {
 		this.srsMaxUpPTS = srsMaxUpPTS;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -231,6 +258,7 @@ This parameter is applicable to TDD mode only.
 	 */
 	public SRS withSrsMaxUpPTS(Boolean srsMaxUpPTS) {
 		this.srsMaxUpPTS = srsMaxUpPTS;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -260,6 +288,7 @@ Corresponds to ackNackSRS-SimultaneousTransmission specfied in {{bibref|3GPP-TS.
 	 */
 	public void  setAckNackSRSSimultaneousTransmission(Boolean ackNackSRSSimultaneousTransmission) {
 		this.ackNackSRSSimultaneousTransmission = ackNackSRSSimultaneousTransmission;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -275,6 +304,7 @@ Corresponds to ackNackSRS-SimultaneousTransmission specfied in {{bibref|3GPP-TS.
 	 */
 	public SRS withAckNackSRSSimultaneousTransmission(Boolean ackNackSRSSimultaneousTransmission) {
 		this.ackNackSRSSimultaneousTransmission = ackNackSRSSimultaneousTransmission;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object is applicable to TDD mode only. This object contains parameters relating to the TDD frame structure configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.10}}).
@@ -54,6 +55,11 @@ public class TDDFrame {
 	@Size(min = 0, max = 8)
 	public Long specialSubframePatterns;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public TDDFrame() {
 	}
 
@@ -76,6 +82,7 @@ public class TDDFrame {
 	 */
 	public void  setSubFrameAssignment(Long subFrameAssignment) {
 		this.subFrameAssignment = subFrameAssignment;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +94,7 @@ public class TDDFrame {
 	 */
 	public TDDFrame withSubFrameAssignment(Long subFrameAssignment) {
 		this.subFrameAssignment = subFrameAssignment;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -108,6 +116,7 @@ public class TDDFrame {
 	 */
 	public void  setSpecialSubframePatterns(Long specialSubframePatterns) {
 		this.specialSubframePatterns = specialSubframePatterns;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -119,6 +128,7 @@ public class TDDFrame {
 	 */
 	public TDDFrame withSpecialSubframePatterns(Long specialSubframePatterns) {
 		this.specialSubframePatterns = specialSubframePatterns;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.phy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the uplink power control configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.7}}).
@@ -141,6 +143,11 @@ This parameter corresponds to deltaPreambleMsg3 parameter specified in {{bibref|
 	@Size(min = -1, max = 6)
 	public Integer deltaPreambleMsg3;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ULPowerControl() {
 	}
 
@@ -160,6 +167,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return p0nominalPUSCH;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value to compute the UL UE transmit power for transmission on PUSCH for semi-persistant grants, with a numeric range between -126 and 24 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to p0-NominalPUSCH parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and PO_NOMINAL_PUSCH(0) parameter specified in {{bibref|3GPP-TS.36.211|Section 5.1.1.1}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewP0nominalPUSCH() {
+		return p0nominalPUSCH == null ? Collections.emptyList() : p0nominalPUSCH;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value to compute the UL UE transmit power for transmission on PUSCH for semi-persistant grants, with a numeric range between -126 and 24 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to p0-NominalPUSCH parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and PO_NOMINAL_PUSCH(0) parameter specified in {{bibref|3GPP-TS.36.211|Section 5.1.1.1}}.
 
@@ -172,6 +194,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setP0nominalPUSCH(Collection<String> p0nominalPUSCH) {
 		this.p0nominalPUSCH = p0nominalPUSCH;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -187,6 +210,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public ULPowerControl withP0nominalPUSCH(String string) {
 		getP0nominalPUSCH().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -205,6 +229,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return alpha;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value used to compute the UL UE transmit power for transmission on PUSCH, from the list of 0, 4, 5, 6, 7, 8, 9, 100. In case there is more than one item in the list, the first item contains the most preferred value.  Actual values of range are from 0.00 to 1.00. The value of {{param}} divided by 100 yields the actual value. Corresponds to alpha parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and to α parameter specified in {{bibref|3GPP-TS.36.211|Section 5.1.1.1}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAlpha() {
+		return alpha == null ? Collections.emptyList() : alpha;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value used to compute the UL UE transmit power for transmission on PUSCH, from the list of 0, 4, 5, 6, 7, 8, 9, 100. In case there is more than one item in the list, the first item contains the most preferred value.  Actual values of range are from 0.00 to 1.00. The value of {{param}} divided by 100 yields the actual value. Corresponds to alpha parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and to α parameter specified in {{bibref|3GPP-TS.36.211|Section 5.1.1.1}}.
 
@@ -217,6 +256,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setAlpha(Collection<String> alpha) {
 		this.alpha = alpha;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -232,6 +272,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public ULPowerControl withAlpha(String string) {
 		getAlpha().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -250,6 +291,21 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return p0nominalPUCCH;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a value to compute the UL UE transmit power for transmission on PUCCH, with a numeric range between -126 and 24 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to p0-NominalPUCCH parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and PO_NOMINAL_PUCCH parameter specified in {{bibref|3GPP-TS.36.211|Section 5.1.2.1}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewP0nominalPUCCH() {
+		return p0nominalPUCCH == null ? Collections.emptyList() : p0nominalPUCCH;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a value to compute the UL UE transmit power for transmission on PUCCH, with a numeric range between -126 and 24 inclusive. In case there is more than one item in the list, the first item contains the most preferred value. Corresponds to p0-NominalPUCCH parameter specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and PO_NOMINAL_PUCCH parameter specified in {{bibref|3GPP-TS.36.211|Section 5.1.2.1}}.
 
@@ -262,6 +318,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setP0nominalPUCCH(Collection<String> p0nominalPUCCH) {
 		this.p0nominalPUCCH = p0nominalPUCCH;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -277,6 +334,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public ULPowerControl withP0nominalPUCCH(String string) {
 		getP0nominalPUCCH().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -302,6 +360,7 @@ Corresponds to parameter ?F_PUCCH(1) in dB as specified in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setDeltaFPUCCHFormat1(Integer deltaFPUCCHFormat1) {
 		this.deltaFPUCCHFormat1 = deltaFPUCCHFormat1;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -315,6 +374,7 @@ Corresponds to parameter ?F_PUCCH(1) in dB as specified in {{bibref|3GPP-TS.36.3
 	 */
 	public ULPowerControl withDeltaFPUCCHFormat1(Integer deltaFPUCCHFormat1) {
 		this.deltaFPUCCHFormat1 = deltaFPUCCHFormat1;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -340,6 +400,7 @@ Corresponds to parameter ?F_PUCCH(1b) in dB dB as specified in {{bibref|3GPP-TS.
 	 */
 	public void  setDeltaFPUCCHFormat1b(Long deltaFPUCCHFormat1b) {
 		this.deltaFPUCCHFormat1b = deltaFPUCCHFormat1b;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -353,6 +414,7 @@ Corresponds to parameter ?F_PUCCH(1b) in dB dB as specified in {{bibref|3GPP-TS.
 	 */
 	public ULPowerControl withDeltaFPUCCHFormat1b(Long deltaFPUCCHFormat1b) {
 		this.deltaFPUCCHFormat1b = deltaFPUCCHFormat1b;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -378,6 +440,7 @@ Corresponds to parameter ?F_PUCCH(2) in dB as specified in {{bibref|3GPP-TS.36.3
 	 */
 	public void  setDeltaFPUCCHFormat2(Integer deltaFPUCCHFormat2) {
 		this.deltaFPUCCHFormat2 = deltaFPUCCHFormat2;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -391,6 +454,7 @@ Corresponds to parameter ?F_PUCCH(2) in dB as specified in {{bibref|3GPP-TS.36.3
 	 */
 	public ULPowerControl withDeltaFPUCCHFormat2(Integer deltaFPUCCHFormat2) {
 		this.deltaFPUCCHFormat2 = deltaFPUCCHFormat2;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -416,6 +480,7 @@ Corresponds to parameter ?F_PUCCH(2a) in dB as specified in {{bibref|3GPP-TS.36.
 	 */
 	public void  setDeltaFPUCCHFormat2a(Integer deltaFPUCCHFormat2a) {
 		this.deltaFPUCCHFormat2a = deltaFPUCCHFormat2a;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -429,6 +494,7 @@ Corresponds to parameter ?F_PUCCH(2a) in dB as specified in {{bibref|3GPP-TS.36.
 	 */
 	public ULPowerControl withDeltaFPUCCHFormat2a(Integer deltaFPUCCHFormat2a) {
 		this.deltaFPUCCHFormat2a = deltaFPUCCHFormat2a;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -454,6 +520,7 @@ Corresponds to parameter ?F_PUCCH(2b) in dB as specified in {{bibref|3GPP-TS.36.
 	 */
 	public void  setDeltaFPUCCHFormat2b(Integer deltaFPUCCHFormat2b) {
 		this.deltaFPUCCHFormat2b = deltaFPUCCHFormat2b;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -467,6 +534,7 @@ Corresponds to parameter ?F_PUCCH(2b) in dB as specified in {{bibref|3GPP-TS.36.
 	 */
 	public ULPowerControl withDeltaFPUCCHFormat2b(Integer deltaFPUCCHFormat2b) {
 		this.deltaFPUCCHFormat2b = deltaFPUCCHFormat2b;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -492,6 +560,7 @@ This parameter corresponds to deltaPreambleMsg3 parameter specified in {{bibref|
 	 */
 	public void  setDeltaPreambleMsg3(Integer deltaPreambleMsg3) {
 		this.deltaPreambleMsg3 = deltaPreambleMsg3;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -505,6 +574,7 @@ This parameter corresponds to deltaPreambleMsg3 parameter specified in {{bibref|
 	 */
 	public ULPowerControl withDeltaPreambleMsg3(Integer deltaPreambleMsg3) {
 		this.deltaPreambleMsg3 = deltaPreambleMsg3;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to the sub-frame that are reserved for MBSFN (Multimedia Broadcast multicast service Single Frequency Network) in downlink direction.  For FDD mode, only one entry can exist in this table. For TDD mode, at most one entry can exist with a given value of stratumID (see {{bibref|3GPP-TS.32.592|Section 6.1.1.8}}).
@@ -106,6 +108,16 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	@Size(min = 1, max = 1)
 	public Long subFrameAllocations;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public SFConfigList() {
 	}
 
@@ -128,6 +140,7 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -139,6 +152,7 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public SFConfigList withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -160,6 +174,8 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -171,6 +187,8 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public SFConfigList withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -192,6 +210,7 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setSyncStratumID(Long syncStratumID) {
 		this.syncStratumID = syncStratumID;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -203,6 +222,7 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public SFConfigList withSyncStratumID(Long syncStratumID) {
 		this.syncStratumID = syncStratumID;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -228,6 +248,8 @@ Corresponds to radioFrameAllocationPeriod IE specified in {{bibref|3GPP-TS.36.33
 	 */
 	public void  setRadioFrameAllocationPeriod(Long radioFrameAllocationPeriod) {
 		this.radioFrameAllocationPeriod = radioFrameAllocationPeriod;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -241,6 +263,8 @@ Corresponds to radioFrameAllocationPeriod IE specified in {{bibref|3GPP-TS.36.33
 	 */
 	public SFConfigList withRadioFrameAllocationPeriod(Long radioFrameAllocationPeriod) {
 		this.radioFrameAllocationPeriod = radioFrameAllocationPeriod;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -262,6 +286,8 @@ Corresponds to radioFrameAllocationPeriod IE specified in {{bibref|3GPP-TS.36.33
 	 */
 	public void  setRadioframeAllocationOffset(Long radioframeAllocationOffset) {
 		this.radioframeAllocationOffset = radioframeAllocationOffset;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -273,6 +299,8 @@ Corresponds to radioFrameAllocationPeriod IE specified in {{bibref|3GPP-TS.36.33
 	 */
 	public SFConfigList withRadioframeAllocationOffset(Long radioframeAllocationOffset) {
 		this.radioframeAllocationOffset = radioframeAllocationOffset;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -294,6 +322,8 @@ Corresponds to radioFrameAllocationPeriod IE specified in {{bibref|3GPP-TS.36.33
 	 */
 	public void  setRadioFrameAllocationSize(Long radioFrameAllocationSize) {
 		this.radioFrameAllocationSize = radioFrameAllocationSize;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -305,6 +335,8 @@ Corresponds to radioFrameAllocationPeriod IE specified in {{bibref|3GPP-TS.36.33
 	 */
 	public SFConfigList withRadioFrameAllocationSize(Long radioFrameAllocationSize) {
 		this.radioFrameAllocationSize = radioFrameAllocationSize;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -334,6 +366,7 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public void  setSubFrameAllocations(Long subFrameAllocations) {
 		this.subFrameAllocations = subFrameAllocations;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -349,6 +382,7 @@ Corresponds to subframeAllocation IE specified in {{bibref|3GPP-TS.36.331|Sectio
 	 */
 	public SFConfigList withSubFrameAllocations(Long subFrameAllocations) {
 		this.subFrameAllocations = subFrameAllocations;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
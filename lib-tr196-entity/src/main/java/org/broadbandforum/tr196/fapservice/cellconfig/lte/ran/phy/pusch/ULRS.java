@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the ULRS (Uplink Reference Signal) of PUSCH (Physical Uplink Shared Channel) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.1.6.1}}).
@@ -72,6 +73,11 @@ Corresponds to sequenceHoppingEnabled parameter specified in {{bibref|3GPP-TS.36
 	@Size(min = 0, max = 7)
 	public Long cyclicShift;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ULRS() {
 	}
 
@@ -98,6 +104,7 @@ Corresponds to groupHoppingEnabled parameter specified in {{bibref|3GPP-TS.36.33
 	 */
 	public void  setGroupHoppingEnabled(Boolean groupHoppingEnabled) {
 		this.groupHoppingEnabled = groupHoppingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +118,7 @@ Corresponds to groupHoppingEnabled parameter specified in {{bibref|3GPP-TS.36.33
 	 */
 	public ULRS withGroupHoppingEnabled(Boolean groupHoppingEnabled) {
 		this.groupHoppingEnabled = groupHoppingEnabled;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -132,6 +140,7 @@ Corresponds to groupHoppingEnabled parameter specified in {{bibref|3GPP-TS.36.33
 	 */
 	public void  setGroupAssignmentPUSCH(Long groupAssignmentPUSCH) {
 		this.groupAssignmentPUSCH = groupAssignmentPUSCH;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -143,6 +152,7 @@ Corresponds to groupHoppingEnabled parameter specified in {{bibref|3GPP-TS.36.33
 	 */
 	public ULRS withGroupAssignmentPUSCH(Long groupAssignmentPUSCH) {
 		this.groupAssignmentPUSCH = groupAssignmentPUSCH;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -168,6 +178,7 @@ Corresponds to sequenceHoppingEnabled parameter specified in {{bibref|3GPP-TS.36
 	 */
 	public void  setSequenceHoppingEnabled(Boolean sequenceHoppingEnabled) {
 		this.sequenceHoppingEnabled = sequenceHoppingEnabled;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -181,6 +192,7 @@ Corresponds to sequenceHoppingEnabled parameter specified in {{bibref|3GPP-TS.36
 	 */
 	public ULRS withSequenceHoppingEnabled(Boolean sequenceHoppingEnabled) {
 		this.sequenceHoppingEnabled = sequenceHoppingEnabled;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -202,6 +214,7 @@ Corresponds to sequenceHoppingEnabled parameter specified in {{bibref|3GPP-TS.36
 	 */
 	public void  setCyclicShift(Long cyclicShift) {
 		this.cyclicShift = cyclicShift;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -213,6 +226,7 @@ Corresponds to sequenceHoppingEnabled parameter specified in {{bibref|3GPP-TS.36
 	 */
 	public ULRS withCyclicShift(Long cyclicShift) {
 		this.cyclicShift = cyclicShift;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
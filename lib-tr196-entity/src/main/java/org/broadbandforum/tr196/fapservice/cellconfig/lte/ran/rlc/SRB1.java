@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.lte.ran.rlc;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the SRB1 (Signaling Radio Bearer 1) configuration (see {{bibref|3GPP-TS.32.592|Section 6.1.3.1}}).
@@ -138,6 +140,11 @@ If  supports self-configuration capability for {{param}} and more than one item
 	@XmlList
 	public Collection<String> tstatusProhibit;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SRB1() {
 	}
 
@@ -168,6 +175,7 @@ If {{false}}, rest of the parameters defined under the current object are used b
 	 */
 	public void  setDefaultConfiguration(Boolean defaultConfiguration) {
 		this.defaultConfiguration = defaultConfiguration;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -183,6 +191,7 @@ If {{false}}, rest of the parameters defined under the current object are used b
 	 */
 	public SRB1 withDefaultConfiguration(Boolean defaultConfiguration) {
 		this.defaultConfiguration = defaultConfiguration;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -203,6 +212,23 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return tpollRetransmit;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a timer between successive poll transmissions, specified in milliseconds, specified in milliseconds, with a numeric range between 5 and 500 inclusive.  Only the multiple of 5 are valid in the range between 5 and 250 inclusive (i.e. 5, 10, 15, 20,... 250), and only the multiple of 50 are valid in the range between 300 and 500 inclusive (i.e., 300, 350, 400, 450, 500). If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.
+
+This parameter is valid only if {{param|DefaultConfiguration}} paramter under the current object is set to {{false}}. Corresponds to t-PollRetransmit IE specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.322|Section 5.2.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTpollRetransmit() {
+		return tpollRetransmit == null ? Collections.emptyList() : tpollRetransmit;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a timer between successive poll transmissions, specified in milliseconds, specified in milliseconds, with a numeric range between 5 and 500 inclusive.  Only the multiple of 5 are valid in the range between 5 and 250 inclusive (i.e. 5, 10, 15, 20,... 250), and only the multiple of 50 are valid in the range between 300 and 500 inclusive (i.e., 300, 350, 400, 450, 500). If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.
 
@@ -217,6 +243,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTpollRetransmit(Collection<String> tpollRetransmit) {
 		this.tpollRetransmit = tpollRetransmit;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -234,6 +261,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public SRB1 withTpollRetransmit(String string) {
 		getTpollRetransmit().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -263,6 +291,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPollPDU(Long pollPDU) {
 		this.pollPDU = pollPDU;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -278,6 +307,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public SRB1 withPollPDU(Long pollPDU) {
 		this.pollPDU = pollPDU;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -307,6 +337,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setPollByte(Long pollByte) {
 		this.pollByte = pollByte;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -322,6 +353,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public SRB1 withPollByte(Long pollByte) {
 		this.pollByte = pollByte;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -351,6 +383,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setMaxRetxThreshold(Long maxRetxThreshold) {
 		this.maxRetxThreshold = maxRetxThreshold;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -366,6 +399,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public SRB1 withMaxRetxThreshold(Long maxRetxThreshold) {
 		this.maxRetxThreshold = maxRetxThreshold;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -386,6 +420,23 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return treordering;
 	}
 
+	/**
+	 * Read the {{list}} Each item defines a timer used by the receiving side of an RLC entity in order to detect loss of RLC PDUs at lower layer, specified in milliseconds, with a numeric range between 0 and 200 inclusive. Only the multiple of 5 are valid in the range between 0 and 100 inclusive (i.e. 0, 5, 10, 15,...,100), and only the multiple of 10 are valid in the range between 110 and 200 inclusive (110, 120, 130,...,200). If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.
+
+This parameter is valid only if {{param|DefaultConfiguration}} paramter under the current object is set to {{false}}. Corresponds to t-Reordering IE specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.322|Section 5.1.2.2. and 5.1.3.2}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTreordering() {
+		return treordering == null ? Collections.emptyList() : treordering;
+	}
+
 	/**
 	 * Set the {{list}} Each item defines a timer used by the receiving side of an RLC entity in order to detect loss of RLC PDUs at lower layer, specified in milliseconds, with a numeric range between 0 and 200 inclusive. Only the multiple of 5 are valid in the range between 0 and 100 inclusive (i.e. 0, 5, 10, 15,...,100), and only the multiple of 10 are valid in the range between 110 and 200 inclusive (110, 120, 130,...,200). If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.
 
@@ -400,6 +451,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTreordering(Collection<String> treordering) {
 		this.treordering = treordering;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -417,6 +469,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public SRB1 withTreordering(String string) {
 		getTreordering().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -437,6 +490,23 @@ If  supports self-configuration capability for {{param}} and more than one item
 		return tstatusProhibit;
 	}
 
+	/**
+	 * Read the {{list}} Each item defines a timer used by the receiving side of an AM RLC entity in order to prohibit transmission of a STATUS PDU, specified in milliseconds, with a numeric range between 0 and 500 inclusive. Only the multiple of 5 are valid in the range between 0 and 250 inclusive (i.e. 0, 5, 10, 15,...,250), and only the multiple of 50 are valid in the range between 300 and 500 inclusive (i.e. 300, 350, 400, 450, 500). If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.
+
+This parameter is valid only if {{param|DefaultConfiguration}} paramter under the current object is set to {{false}}. Corresponds to t-StatusProhibit IE specified in {{bibref|3GPP-TS.36.331|Section 6.3.2}} and in {{bibref|3GPP-TS.36.322|Section 5.2.3}}.
+
+The multiplicity of the {{param}} values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive. If this notation is used, then the list contains at least 2 items: "<preferred-value>,<lower-bound>..<upper-bound>".
+
+If  supports self-configuration capability for {{param}} and more than one item is configured, then  is expected to select one from the list and overwrite this parameter containing only the one selected.  If  does not support self-configuration capability for {{param}} and more than one item is configured, then  accepts the first value and ignore the rest. If only one item is configured regardless of the self-configuration capability of ,  accepts the value as an explicit configuration by the ACS.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTstatusProhibit() {
+		return tstatusProhibit == null ? Collections.emptyList() : tstatusProhibit;
+	}
+
 	/**
 	 * Set the {{list}} Each item defines a timer used by the receiving side of an AM RLC entity in order to prohibit transmission of a STATUS PDU, specified in milliseconds, with a numeric range between 0 and 500 inclusive. Only the multiple of 5 are valid in the range between 0 and 250 inclusive (i.e. 0, 5, 10, 15,...,250), and only the multiple of 50 are valid in the range between 300 and 500 inclusive (i.e. 300, 350, 400, 450, 500). If the value is other than these, the CPE MUST reject the value. In case there is more than one item in the list, the first item contains the most preferred value.
 
@@ -451,6 +521,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public void  setTstatusProhibit(Collection<String> tstatusProhibit) {
 		this.tstatusProhibit = tstatusProhibit;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -468,6 +539,7 @@ If  supports self-configuration capability for {{param}} and more than one item
 	 */
 	public SRB1 withTstatusProhibit(String string) {
 		getTstatusProhibit().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
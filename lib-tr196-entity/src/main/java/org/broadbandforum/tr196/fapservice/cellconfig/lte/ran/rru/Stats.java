@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the RRU statistics as defined in {{bibref|3GPP-TS.32.453}}.
@@ -54,6 +55,11 @@ public class Stats {
 	@Size(min = 0, max = 100)
 	public Long prbTotUl;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -76,6 +82,7 @@ public class Stats {
 	 */
 	public void  setPrbTotDl(Long prbTotDl) {
 		this.prbTotDl = prbTotDl;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -87,6 +94,7 @@ public class Stats {
 	 */
 	public Stats withPrbTotDl(Long prbTotDl) {
 		this.prbTotDl = prbTotDl;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -108,6 +116,7 @@ public class Stats {
 	 */
 	public void  setPrbTotUl(Long prbTotUl) {
 		this.prbTotUl = prbTotUl;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -119,6 +128,7 @@ public class Stats {
 	 */
 	public Stats withPrbTotUl(Long prbTotUl) {
 		this.prbTotUl = prbTotUl;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.umts;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.CSDomain;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.HHO;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.PSDomain;
@@ -188,6 +190,11 @@ If the self-configuration capability is not available or not enabled, then this
 	@XmlElement(name = "HHO")
 	public HHO hho;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CN() {
 	}
 
@@ -210,6 +217,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setPlmNType(String plmNType) {
 		this.plmNType = plmNType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -221,6 +229,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public CN withPlmNType(String plmNType) {
 		this.plmNType = plmNType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -254,6 +263,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -271,6 +281,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public CN withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -293,6 +304,25 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 		return equivPLMNID;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a PLMNID.
+
+PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC) {{bibref|3GPP-TS.23.003}}, {{bibref|3GPP-TS.24.008}}.
+
+Mobile Country Code consists of three digits and uniquely identifies the country of domicile of the subscriber.
+
+Mobile Network Code consists of two or three digits and identifies the Home PLMN within a country.
+
+For a 2-digit MNC the total string length of the PLMNID is 5.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEquivPLMNID() {
+		return equivPLMNID == null ? Collections.emptyList() : equivPLMNID;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a PLMNID.
 
@@ -309,6 +339,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setEquivPLMNID(Collection<String> equivPLMNID) {
 		this.equivPLMNID = equivPLMNID;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -328,6 +359,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public CN withEquivPLMNID(String string) {
 		getEquivPLMNID().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -353,6 +385,7 @@ The concatenation of PLMN ID (MCC+MNC), LAC, and SAC uniquely identifies the Ser
 	 */
 	public void  setSac(Long sac) {
 		this.sac = sac;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -366,6 +399,7 @@ The concatenation of PLMN ID (MCC+MNC), LAC, and SAC uniquely identifies the Ser
 	 */
 	public CN withSac(Long sac) {
 		this.sac = sac;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -387,6 +421,7 @@ The concatenation of PLMN ID (MCC+MNC), LAC, and SAC uniquely identifies the Ser
 	 */
 	public void  setBroadcastSAC(Long broadcastSAC) {
 		this.broadcastSAC = broadcastSAC;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -398,6 +433,7 @@ The concatenation of PLMN ID (MCC+MNC), LAC, and SAC uniquely identifies the Ser
 	 */
 	public CN withBroadcastSAC(Long broadcastSAC) {
 		this.broadcastSAC = broadcastSAC;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -444,6 +480,49 @@ The following are examples of the valid LACRAC combination formats:
 		return lacRAC;
 	}
 
+	/**
+	 * Read the {{list}}  Each item is a LAC/RAC combination expressed in the following format:
+
+:<LAC or LACrange>':'<RAC or RACrange>
+
+Where LAC and RAC are single values, while LACrange and RACrange are inclusive and can be expressed in the following format:
+
+:<Start-value>".."<End-value>
+
+Location Area Code (LAC) consists of up to 5 numerical characters. The concatenation of PLMN ID (MCC+MNC) and LAC uniquely identifies the Location Area ID (LAI). {{bibref|3GPP-TS.23.003|Section 4.1}} {{bibref|3GPP-TS.25.413|Section 9.2.3.6}}.
+
+Routing Area Code (RAC) consists of up to 3 numerical characters. The concatenation of PLMN ID (MCC+MNC), LAC, and RAC uniquely identifies the Routing Area ID (RAI). {{bibref|3GPP-TS.23.003|Section 4.2}} {{bibref|3GPP-TS.25.413|Section 9.2.3.7}}.
+
+The FAP is to select one LAC and RAC from the combination(s) expressed in this parameter for use in {{param|LACInUse}} and {{param|RACInUse}} respectively.
+
+If a LAC occurs more than once in the list, this shall not increase the chance that it is selected over other LAC values in the list.
+
+The following are examples of the valid LACRAC combination formats:
+
+:"64000:210"
+
+::(one list item with single value for LAC and RAC)
+
+:"64000..64100:210, 64101:211"
+
+::(two list items, first item has a LAC range)
+
+:"64000:210..214, 64001:215..219"
+
+::(two list items, both items have a RAC range for a specific LAC value)
+
+:"64000..64100:210..214"
+
+::(one list item both have a LAC range and a RAC range)
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewLacRAC() {
+		return lacRAC == null ? Collections.emptyList() : lacRAC;
+	}
+
 	/**
 	 * Set the {{list}}  Each item is a LAC/RAC combination expressed in the following format:
 
@@ -484,6 +563,7 @@ The following are examples of the valid LACRAC combination formats:
 	 */
 	public void  setLacRAC(Collection<String> lacRAC) {
 		this.lacRAC = lacRAC;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -527,6 +607,7 @@ The following are examples of the valid LACRAC combination formats:
 	 */
 	public CN withLacRAC(String string) {
 		getLacRAC().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -560,6 +641,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setLacInUse(Long lacInUse) {
 		this.lacInUse = lacInUse;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -577,6 +659,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public CN withLacInUse(Long lacInUse) {
 		this.lacInUse = lacInUse;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -610,6 +693,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setRacInUse(Long racInUse) {
 		this.racInUse = racInUse;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -627,6 +711,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public CN withRacInUse(Long racInUse) {
 		this.racInUse = racInUse;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to Radio Access layers {{bibref|3GPP-TS.32.405}}
@@ -131,6 +132,11 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long succHO;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RAB() {
 	}
 
@@ -153,6 +159,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setRabSuccEstabCS(Long rabSuccEstabCS) {
 		this.rabSuccEstabCS = rabSuccEstabCS;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -164,6 +171,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withRabSuccEstabCS(Long rabSuccEstabCS) {
 		this.rabSuccEstabCS = rabSuccEstabCS;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -185,6 +193,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setRabFailEstabCS(Long rabFailEstabCS) {
 		this.rabFailEstabCS = rabFailEstabCS;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -196,6 +205,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withRabFailEstabCS(Long rabFailEstabCS) {
 		this.rabFailEstabCS = rabFailEstabCS;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -217,6 +227,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setRabSuccEstabPS(Long rabSuccEstabPS) {
 		this.rabSuccEstabPS = rabSuccEstabPS;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -228,6 +239,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withRabSuccEstabPS(Long rabSuccEstabPS) {
 		this.rabSuccEstabPS = rabSuccEstabPS;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -249,6 +261,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setRabFailEstabPS(Long rabFailEstabPS) {
 		this.rabFailEstabPS = rabFailEstabPS;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -260,6 +273,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withRabFailEstabPS(Long rabFailEstabPS) {
 		this.rabFailEstabPS = rabFailEstabPS;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -289,6 +303,7 @@ This end value of the time will then be divided by the number of successfully es
 	 */
 	public void  setRabCSSetupTimeMean(Long rabCSSetupTimeMean) {
 		this.rabCSSetupTimeMean = rabCSSetupTimeMean;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -304,6 +319,7 @@ This end value of the time will then be divided by the number of successfully es
 	 */
 	public RAB withRabCSSetupTimeMean(Long rabCSSetupTimeMean) {
 		this.rabCSSetupTimeMean = rabCSSetupTimeMean;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -333,6 +349,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setRabCSSetupTimeMax(Long rabCSSetupTimeMax) {
 		this.rabCSSetupTimeMax = rabCSSetupTimeMax;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -348,6 +365,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withRabCSSetupTimeMax(Long rabCSSetupTimeMax) {
 		this.rabCSSetupTimeMax = rabCSSetupTimeMax;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -377,6 +395,7 @@ This end value of the time will then be divided by the number of successfully es
 	 */
 	public void  setRabPSSetupTimeMean(Long rabPSSetupTimeMean) {
 		this.rabPSSetupTimeMean = rabPSSetupTimeMean;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -392,6 +411,7 @@ This end value of the time will then be divided by the number of successfully es
 	 */
 	public RAB withRabPSSetupTimeMean(Long rabPSSetupTimeMean) {
 		this.rabPSSetupTimeMean = rabPSSetupTimeMean;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -421,6 +441,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setRabPSSetupTimeMax(Long rabPSSetupTimeMax) {
 		this.rabPSSetupTimeMax = rabPSSetupTimeMax;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -436,6 +457,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withRabPSSetupTimeMax(Long rabPSSetupTimeMax) {
 		this.rabPSSetupTimeMax = rabPSSetupTimeMax;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -457,6 +479,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setFailHO(Long failHO) {
 		this.failHO = failHO;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -468,6 +491,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withFailHO(Long failHO) {
 		this.failHO = failHO;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -489,6 +513,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public void  setSuccHO(Long succHO) {
 		this.succHO = succHO;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -500,6 +525,7 @@ The high tide mark of this time will be stored in a gauge; the gauge SHALL be re
 	 */
 	public RAB withSuccHO(Long succHO) {
 		this.succHO = succHO;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
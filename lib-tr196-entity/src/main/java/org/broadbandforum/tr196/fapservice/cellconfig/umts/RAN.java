@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.CSG;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.CellRestriction;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.CellSelection;
@@ -298,6 +299,11 @@ If {{param|HSFlag}} is {{false}} then this value MUST be {{false}}.
 	@XmlElement(name = "RRC")
 	public RRC rrc;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RAN() {
 	}
 
@@ -328,6 +334,7 @@ The order of the URA values has no significance.
 	 */
 	public void  setUraList(Long uraList) {
 		this.uraList = uraList;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -343,6 +350,7 @@ The order of the URA values has no significance.
 	 */
 	public RAN withUraList(Long uraList) {
 		this.uraList = uraList;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -376,6 +384,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setUraInUse(Long uraInUse) {
 		this.uraInUse = uraInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -393,6 +402,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RAN withUraInUse(Long uraInUse) {
 		this.uraInUse = uraInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -426,6 +436,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -443,6 +454,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -464,6 +476,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setCellID(Long cellID) {
 		this.cellID = cellID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -475,6 +488,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withCellID(Long cellID) {
 		this.cellID = cellID;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -496,6 +510,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setTratC(Long tratC) {
 		this.tratC = tratC;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -507,6 +522,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withTratC(Long tratC) {
 		this.tratC = tratC;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -528,6 +544,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setTrafC(Long trafC) {
 		this.trafC = trafC;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -539,6 +556,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withTrafC(Long trafC) {
 		this.trafC = trafC;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -560,6 +578,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setNrafC(Long nrafC) {
 		this.nrafC = nrafC;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -571,6 +590,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withNrafC(Long nrafC) {
 		this.nrafC = nrafC;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -592,6 +612,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setTigOR(Long tigOR) {
 		this.tigOR = tigOR;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -603,6 +624,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withTigOR(Long tigOR) {
 		this.tigOR = tigOR;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -624,6 +646,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setTinTR(Long tinTR) {
 		this.tinTR = tinTR;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -635,6 +658,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withTinTR(Long tinTR) {
 		this.tinTR = tinTR;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -656,6 +680,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setTdataFwd(Long tdataFwd) {
 		this.tdataFwd = tdataFwd;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -667,6 +692,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withTdataFwd(Long tdataFwd) {
 		this.tdataFwd = tdataFwd;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -688,6 +714,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setTrelocPrep(Long trelocPrep) {
 		this.trelocPrep = trelocPrep;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -699,6 +726,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withTrelocPrep(Long trelocPrep) {
 		this.trelocPrep = trelocPrep;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -720,6 +748,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setTrelocOverall(Long trelocOverall) {
 		this.trelocOverall = trelocOverall;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -731,6 +760,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public RAN withTrelocOverall(Long trelocOverall) {
 		this.trelocOverall = trelocOverall;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -772,6 +802,7 @@ The other identifiers before "@" are device dependent values. Both <OUI> and <Se
 	 */
 	public void  setHnbIDRealm(String hnbIDRealm) {
 		this.hnbIDRealm = hnbIDRealm;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -793,6 +824,7 @@ The other identifiers before "@" are device dependent values. Both <OUI> and <Se
 	 */
 	public RAN withHnbIDRealm(String hnbIDRealm) {
 		this.hnbIDRealm = hnbIDRealm;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -822,6 +854,7 @@ If {{false}} HSDPA is disabled (this is equivalent to a "0" in {{bibref|3GPP-TS.
 	 */
 	public void  setHsflag(Boolean hsflag) {
 		this.hsflag = hsflag;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -837,6 +870,7 @@ If {{false}} HSDPA is disabled (this is equivalent to a "0" in {{bibref|3GPP-TS.
 	 */
 	public RAN withHsflag(Boolean hsflag) {
 		this.hsflag = hsflag;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -870,6 +904,7 @@ If {{param|HSFlag}} is {{false}} then this value MUST be {{false}}.
 	 */
 	public void  setHsenable(Boolean hsenable) {
 		this.hsenable = hsenable;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -887,6 +922,7 @@ If {{param|HSFlag}} is {{false}} then this value MUST be {{false}}.
 	 */
 	public RAN withHsenable(Boolean hsenable) {
 		this.hsenable = hsenable;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -908,6 +944,7 @@ If {{param|HSFlag}} is {{false}} then this value MUST be {{false}}.
 	 */
 	public void  setNumOfHSPDSCHs(Long numOfHSPDSCHs) {
 		this.numOfHSPDSCHs = numOfHSPDSCHs;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -919,6 +956,7 @@ If {{param|HSFlag}} is {{false}} then this value MUST be {{false}}.
 	 */
 	public RAN withNumOfHSPDSCHs(Long numOfHSPDSCHs) {
 		this.numOfHSPDSCHs = numOfHSPDSCHs;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -940,6 +978,7 @@ If {{param|HSFlag}} is {{false}} then this value MUST be {{false}}.
 	 */
 	public void  setNumOfHSSCCHs(Long numOfHSSCCHs) {
 		this.numOfHSSCCHs = numOfHSSCCHs;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -951,6 +990,7 @@ If {{param|HSFlag}} is {{false}} then this value MUST be {{false}}.
 	 */
 	public RAN withNumOfHSSCCHs(Long numOfHSSCCHs) {
 		this.numOfHSSCCHs = numOfHSSCCHs;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.csdomain.HHO;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.csdomain.RAB;
 
@@ -71,6 +72,11 @@ If {{false}} UE SHALL NOT apply IMSI attach and detach procedure
 	@XmlElement(name = "HHO")
 	public HHO hho;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CSDomain() {
 	}
 
@@ -97,6 +103,7 @@ The value of 0 is used for infinite timeout value i.e. periodic updating shall n
 	 */
 	public void  setT3212(Long t3212) {
 		this.t3212 = t3212;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +117,7 @@ The value of 0 is used for infinite timeout value i.e. periodic updating shall n
 	 */
 	public CSDomain withT3212(Long t3212) {
 		this.t3212 = t3212;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -139,6 +147,7 @@ If {{false}} UE SHALL NOT apply IMSI attach and detach procedure
 	 */
 	public void  setImsIAttachDetachEnable(Boolean imsIAttachDetachEnable) {
 		this.imsIAttachDetachEnable = imsIAttachDetachEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +163,7 @@ If {{false}} UE SHALL NOT apply IMSI attach and detach procedure
 	 */
 	public CSDomain withImsIAttachDetachEnable(Boolean imsIAttachDetachEnable) {
 		this.imsIAttachDetachEnable = imsIAttachDetachEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.psdomain.RAB;
 
 	/**
@@ -53,6 +54,11 @@ If {{false}} (Network Mode of Operation I) Combined procedures between CS and PS
 	@XmlElement(name = "RAB")
 	public RAB rab;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PSDomain() {
 	}
 
@@ -83,6 +89,7 @@ If {{false}} (Network Mode of Operation I) Combined procedures between CS and PS
 	 */
 	public void  setNetworkModeOperationCombined(Boolean networkModeOperationCombined) {
 		this.networkModeOperationCombined = networkModeOperationCombined;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -98,6 +105,7 @@ If {{false}} (Network Mode of Operation I) Combined procedures between CS and PS
 	 */
 	public PSDomain withNetworkModeOperationCombined(Boolean networkModeOperationCombined) {
 		this.networkModeOperationCombined = networkModeOperationCombined;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
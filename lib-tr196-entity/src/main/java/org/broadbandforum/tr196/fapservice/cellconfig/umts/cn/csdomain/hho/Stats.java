@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the circuit switch HHO statistics as defined in {{bibref|3GPP-TS.32.452}}.
@@ -67,6 +68,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long succ2GMacroToHnbCSHO;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -89,6 +95,7 @@ public class Stats {
 	 */
 	public void  setAtt3GMacroToHnbCSHO(Long att3GMacroToHnbCSHO) {
 		this.att3GMacroToHnbCSHO = att3GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +107,7 @@ public class Stats {
 	 */
 	public Stats withAtt3GMacroToHnbCSHO(Long att3GMacroToHnbCSHO) {
 		this.att3GMacroToHnbCSHO = att3GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class Stats {
 	 */
 	public void  setSucc3GMacroToHnbCSHO(Long succ3GMacroToHnbCSHO) {
 		this.succ3GMacroToHnbCSHO = succ3GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +141,7 @@ public class Stats {
 	 */
 	public Stats withSucc3GMacroToHnbCSHO(Long succ3GMacroToHnbCSHO) {
 		this.succ3GMacroToHnbCSHO = succ3GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -153,6 +163,7 @@ public class Stats {
 	 */
 	public void  setAtt2GMacroToHnbCSHO(Long att2GMacroToHnbCSHO) {
 		this.att2GMacroToHnbCSHO = att2GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -164,6 +175,7 @@ public class Stats {
 	 */
 	public Stats withAtt2GMacroToHnbCSHO(Long att2GMacroToHnbCSHO) {
 		this.att2GMacroToHnbCSHO = att2GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,6 +197,7 @@ public class Stats {
 	 */
 	public void  setSucc2GMacroToHnbCSHO(Long succ2GMacroToHnbCSHO) {
 		this.succ2GMacroToHnbCSHO = succ2GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -196,6 +209,7 @@ public class Stats {
 	 */
 	public Stats withSucc2GMacroToHnbCSHO(Long succ2GMacroToHnbCSHO) {
 		this.succ2GMacroToHnbCSHO = succ2GMacroToHnbCSHO;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the RAB statistics in the CS Domain as defined in {{bibref|3GPP-TS.32.452}}.
@@ -67,6 +68,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long relDropCS;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -89,6 +95,7 @@ public class Stats {
 	 */
 	public void  setAttEstabCS(Long attEstabCS) {
 		this.attEstabCS = attEstabCS;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +107,7 @@ public class Stats {
 	 */
 	public Stats withAttEstabCS(Long attEstabCS) {
 		this.attEstabCS = attEstabCS;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class Stats {
 	 */
 	public void  setFailEstabCS(Long failEstabCS) {
 		this.failEstabCS = failEstabCS;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +141,7 @@ public class Stats {
 	 */
 	public Stats withFailEstabCS(Long failEstabCS) {
 		this.failEstabCS = failEstabCS;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -153,6 +163,7 @@ public class Stats {
 	 */
 	public void  setSuccEstabCS(Long succEstabCS) {
 		this.succEstabCS = succEstabCS;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -164,6 +175,7 @@ public class Stats {
 	 */
 	public Stats withSuccEstabCS(Long succEstabCS) {
 		this.succEstabCS = succEstabCS;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,6 +197,7 @@ public class Stats {
 	 */
 	public void  setRelDropCS(Long relDropCS) {
 		this.relDropCS = relDropCS;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -196,6 +209,7 @@ public class Stats {
 	 */
 	public Stats withRelDropCS(Long relDropCS) {
 		this.relDropCS = relDropCS;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the HHO statistics as defined in {{bibref|3GPP-TS.32.452}}.
@@ -59,6 +60,11 @@ public class Stats {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long attHnbUmtsInterFreq;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -81,6 +87,7 @@ public class Stats {
 	 */
 	public void  setSuccHnbUmtsIntraFreq(Long succHnbUmtsIntraFreq) {
 		this.succHnbUmtsIntraFreq = succHnbUmtsIntraFreq;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ public class Stats {
 	 */
 	public Stats withSuccHnbUmtsIntraFreq(Long succHnbUmtsIntraFreq) {
 		this.succHnbUmtsIntraFreq = succHnbUmtsIntraFreq;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,6 +121,7 @@ public class Stats {
 	 */
 	public void  setAttHnbUmtsIntraFreq(Long attHnbUmtsIntraFreq) {
 		this.attHnbUmtsIntraFreq = attHnbUmtsIntraFreq;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -124,6 +133,7 @@ public class Stats {
 	 */
 	public Stats withAttHnbUmtsIntraFreq(Long attHnbUmtsIntraFreq) {
 		this.attHnbUmtsIntraFreq = attHnbUmtsIntraFreq;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -145,6 +155,7 @@ public class Stats {
 	 */
 	public void  setAttHnbUmtsInterFreq(Long attHnbUmtsInterFreq) {
 		this.attHnbUmtsInterFreq = attHnbUmtsInterFreq;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -156,6 +167,7 @@ public class Stats {
 	 */
 	public Stats withAttHnbUmtsInterFreq(Long attHnbUmtsInterFreq) {
 		this.attHnbUmtsInterFreq = attHnbUmtsInterFreq;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
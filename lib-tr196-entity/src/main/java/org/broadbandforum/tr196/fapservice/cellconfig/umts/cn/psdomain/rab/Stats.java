@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.psdomain.rab;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -26,6 +27,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.cn.psdomain.rab.stats.LGW;
 
 	/**
@@ -145,6 +148,11 @@ public class Stats {
 	@XmlElement(name = "LGW")
 	public Collection<LGW> lgws;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -162,6 +170,19 @@ public class Stats {
 		return attEstabPS;
 	}
 
+	/**
+	 * Read the this measurement provides the number of requested RAB in establishment attempts for the PS domain by traffic class.
+
+{{list| where each item is defined as the "traffic class name=measurement value"}} The total of all the measurements is provided using the traffic class name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAttEstabPS() {
+		return attEstabPS == null ? Collections.emptyList() : attEstabPS;
+	}
+
 	/**
 	 * Set the this measurement provides the number of requested RAB in establishment attempts for the PS domain by traffic class.
 
@@ -172,6 +193,7 @@ public class Stats {
 	 */
 	public void  setAttEstabPS(Collection<String> attEstabPS) {
 		this.attEstabPS = attEstabPS;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -185,6 +207,7 @@ public class Stats {
 	 */
 	public Stats withAttEstabPS(String string) {
 		getAttEstabPS().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -206,6 +229,7 @@ public class Stats {
 	 */
 	public void  setSuccEstabPS(Long succEstabPS) {
 		this.succEstabPS = succEstabPS;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -217,6 +241,7 @@ public class Stats {
 	 */
 	public Stats withSuccEstabPS(Long succEstabPS) {
 		this.succEstabPS = succEstabPS;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -238,6 +263,7 @@ public class Stats {
 	 */
 	public void  setFailEstabPS(Long failEstabPS) {
 		this.failEstabPS = failEstabPS;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -249,6 +275,7 @@ public class Stats {
 	 */
 	public Stats withFailEstabPS(Long failEstabPS) {
 		this.failEstabPS = failEstabPS;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -270,6 +297,7 @@ public class Stats {
 	 */
 	public void  setRelDropPS(Long relDropPS) {
 		this.relDropPS = relDropPS;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -281,6 +309,7 @@ public class Stats {
 	 */
 	public Stats withRelDropPS(Long relDropPS) {
 		this.relDropPS = relDropPS;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -302,6 +331,7 @@ public class Stats {
 	 */
 	public void  setUlnumUserBitsEDCH(Long ulnumUserBitsEDCH) {
 		this.ulnumUserBitsEDCH = ulnumUserBitsEDCH;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -313,6 +343,7 @@ public class Stats {
 	 */
 	public Stats withUlnumUserBitsEDCH(Long ulnumUserBitsEDCH) {
 		this.ulnumUserBitsEDCH = ulnumUserBitsEDCH;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -334,6 +365,7 @@ public class Stats {
 	 */
 	public void  setUlnumUserBits64K(Long ulnumUserBits64K) {
 		this.ulnumUserBits64K = ulnumUserBits64K;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -345,6 +377,7 @@ public class Stats {
 	 */
 	public Stats withUlnumUserBits64K(Long ulnumUserBits64K) {
 		this.ulnumUserBits64K = ulnumUserBits64K;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -366,6 +399,7 @@ public class Stats {
 	 */
 	public void  setUlnumUserBits128K(Long ulnumUserBits128K) {
 		this.ulnumUserBits128K = ulnumUserBits128K;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -377,6 +411,7 @@ public class Stats {
 	 */
 	public Stats withUlnumUserBits128K(Long ulnumUserBits128K) {
 		this.ulnumUserBits128K = ulnumUserBits128K;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -398,6 +433,7 @@ public class Stats {
 	 */
 	public void  setUlnumUserBits384K(Long ulnumUserBits384K) {
 		this.ulnumUserBits384K = ulnumUserBits384K;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -409,6 +445,7 @@ public class Stats {
 	 */
 	public Stats withUlnumUserBits384K(Long ulnumUserBits384K) {
 		this.ulnumUserBits384K = ulnumUserBits384K;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -430,6 +467,7 @@ public class Stats {
 	 */
 	public void  setDlnumUserBitsHSDPA(Long dlnumUserBitsHSDPA) {
 		this.dlnumUserBitsHSDPA = dlnumUserBitsHSDPA;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -441,6 +479,7 @@ public class Stats {
 	 */
 	public Stats withDlnumUserBitsHSDPA(Long dlnumUserBitsHSDPA) {
 		this.dlnumUserBitsHSDPA = dlnumUserBitsHSDPA;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -462,6 +501,7 @@ public class Stats {
 	 */
 	public void  setDlnumUserBits64K(Long dlnumUserBits64K) {
 		this.dlnumUserBits64K = dlnumUserBits64K;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -473,6 +513,7 @@ public class Stats {
 	 */
 	public Stats withDlnumUserBits64K(Long dlnumUserBits64K) {
 		this.dlnumUserBits64K = dlnumUserBits64K;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -494,6 +535,7 @@ public class Stats {
 	 */
 	public void  setDlnumUserBits128K(Long dlnumUserBits128K) {
 		this.dlnumUserBits128K = dlnumUserBits128K;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -505,6 +547,7 @@ public class Stats {
 	 */
 	public Stats withDlnumUserBits128K(Long dlnumUserBits128K) {
 		this.dlnumUserBits128K = dlnumUserBits128K;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -526,6 +569,7 @@ public class Stats {
 	 */
 	public void  setDlnumUserBits384K(Long dlnumUserBits384K) {
 		this.dlnumUserBits384K = dlnumUserBits384K;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -537,6 +581,7 @@ public class Stats {
 	 */
 	public Stats withDlnumUserBits384K(Long dlnumUserBits384K) {
 		this.dlnumUserBits384K = dlnumUserBits384K;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -546,10 +591,20 @@ public class Stats {
 	 * @return the value
 	 */
 	public Collection<LGW> getLgws() {
-		if (this.lgws == null){ this.lgws=new ArrayList<>();}
+		if (!(this.lgws instanceof InstanceTable)){ this.lgws=InstanceTable.of(this.lgws);}
 		return lgws;
 	}
 
+	/**
+	 * Read the this object provides statistics for the Direct User Plane Path between HNB and Local Gateway as defined in {{bibref|3GPP-TS.32.452}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<LGW> viewLgws() {
+		return lgws == null ? Collections.emptyList() : lgws;
+	}
+
 	/**
 	 * Set the this object provides statistics for the Direct User Plane Path between HNB and Local Gateway as defined in {{bibref|3GPP-TS.32.452}}.
 	 *
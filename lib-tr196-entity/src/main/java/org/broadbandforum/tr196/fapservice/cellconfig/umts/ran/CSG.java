@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.csg.CSGPSCSplitInfo;
 
 	/**
@@ -68,6 +69,11 @@ The corresponding UTRA Absolute Radio Frequency Channel Number (UARFCN) in the U
 	@XmlElement(name = "CSGPSCSplitInfo")
 	public CSGPSCSplitInfo csgPSCSplitInfo;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CSG() {
 	}
 
@@ -102,6 +108,7 @@ If {{false}} the CSG-indicator IE is absent, reflecting access to the CSG cell i
 	 */
 	public void  setCsgIndicator(Boolean csgIndicator) {
 		this.csgIndicator = csgIndicator;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -119,6 +126,7 @@ If {{false}} the CSG-indicator IE is absent, reflecting access to the CSG cell i
 	 */
 	public CSG withCsgIndicator(Boolean csgIndicator) {
 		this.csgIndicator = csgIndicator;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -148,6 +156,7 @@ The corresponding UTRA Absolute Radio Frequency Channel Number (UARFCN) in the U
 	 */
 	public void  setUarFCNDLList(Long uarFCNDLList) {
 		this.uarFCNDLList = uarFCNDLList;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -163,6 +172,7 @@ The corresponding UTRA Absolute Radio Frequency Channel Number (UARFCN) in the U
 	 */
 	public CSG withUarFCNDLList(Long uarFCNDLList) {
 		this.uarFCNDLList = uarFCNDLList;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to cell access restriction.
@@ -109,6 +110,11 @@ The order of the list has no significance.
 	@CWMPParameter(access = "readWrite")
 	public Boolean cellReservedForOperatorUse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CellRestriction() {
 	}
 
@@ -135,6 +141,7 @@ The order of the list has no significance.
 	 */
 	public void  setCellBarred(Boolean cellBarred) {
 		this.cellBarred = cellBarred;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -148,6 +155,7 @@ The order of the list has no significance.
 	 */
 	public CellRestriction withCellBarred(Boolean cellBarred) {
 		this.cellBarred = cellBarred;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -185,6 +193,7 @@ The order of the list has no significance.
 	 */
 	public void  setIntraFreqCellReselectionIndicator(Boolean intraFreqCellReselectionIndicator) {
 		this.intraFreqCellReselectionIndicator = intraFreqCellReselectionIndicator;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -204,6 +213,7 @@ The order of the list has no significance.
 	 */
 	public CellRestriction withIntraFreqCellReselectionIndicator(Boolean intraFreqCellReselectionIndicator) {
 		this.intraFreqCellReselectionIndicator = intraFreqCellReselectionIndicator;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -229,6 +239,7 @@ The order of the list has no significance.
 	 */
 	public void  setTbarred(Long tbarred) {
 		this.tbarred = tbarred;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -242,6 +253,7 @@ The order of the list has no significance.
 	 */
 	public CellRestriction withTbarred(Long tbarred) {
 		this.tbarred = tbarred;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -271,6 +283,7 @@ The order of the list has no significance.
 	 */
 	public void  setAccessClassBarredListCS(Long accessClassBarredListCS) {
 		this.accessClassBarredListCS = accessClassBarredListCS;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -286,6 +299,7 @@ The order of the list has no significance.
 	 */
 	public CellRestriction withAccessClassBarredListCS(Long accessClassBarredListCS) {
 		this.accessClassBarredListCS = accessClassBarredListCS;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -315,6 +329,7 @@ The order of the list has no significance.
 	 */
 	public void  setAccessClassBarredListPS(Long accessClassBarredListPS) {
 		this.accessClassBarredListPS = accessClassBarredListPS;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -330,6 +345,7 @@ The order of the list has no significance.
 	 */
 	public CellRestriction withAccessClassBarredListPS(Long accessClassBarredListPS) {
 		this.accessClassBarredListPS = accessClassBarredListPS;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -355,6 +371,7 @@ The order of the list has no significance.
 	 */
 	public void  setCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -368,6 +385,7 @@ The order of the list has no significance.
 	 */
 	public CellRestriction withCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
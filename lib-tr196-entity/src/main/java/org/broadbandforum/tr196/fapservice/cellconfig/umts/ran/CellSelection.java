@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to cell selection and reselection.
@@ -361,6 +362,11 @@ Defines the maximum transmit power level, specified in dBm, that an UE MAY use w
 	@Size(min = -50, max = 33)
 	public Integer uetxPwrMaxRACH;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CellSelection() {
 	}
 
@@ -383,6 +389,7 @@ Defines the maximum transmit power level, specified in dBm, that an UE MAY use w
 	 */
 	public void  setQualityMeasureCPICH(String qualityMeasureCPICH) {
 		this.qualityMeasureCPICH = qualityMeasureCPICH;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -394,6 +401,7 @@ Defines the maximum transmit power level, specified in dBm, that an UE MAY use w
 	 */
 	public CellSelection withQualityMeasureCPICH(String qualityMeasureCPICH) {
 		this.qualityMeasureCPICH = qualityMeasureCPICH;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -419,6 +427,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public void  setQqualMin(Integer qqualMin) {
 		this.qqualMin = qqualMin;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -432,6 +441,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public CellSelection withQqualMin(Integer qqualMin) {
 		this.qqualMin = qqualMin;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -457,6 +467,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public void  setQqualMinOffset(Long qqualMinOffset) {
 		this.qqualMinOffset = qqualMinOffset;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -470,6 +481,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public CellSelection withQqualMinOffset(Long qqualMinOffset) {
 		this.qqualMinOffset = qqualMinOffset;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -499,6 +511,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public void  setQrxLevMin(Integer qrxLevMin) {
 		this.qrxLevMin = qrxLevMin;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -514,6 +527,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public CellSelection withQrxLevMin(Integer qrxLevMin) {
 		this.qrxLevMin = qrxLevMin;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -543,6 +557,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public void  setDeltaQRxLevMin(Integer deltaQRxLevMin) {
 		this.deltaQRxLevMin = deltaQRxLevMin;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -558,6 +573,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public CellSelection withDeltaQRxLevMin(Integer deltaQRxLevMin) {
 		this.deltaQRxLevMin = deltaQRxLevMin;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -583,6 +599,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public void  setQrxLevMinOffset(Long qrxLevMinOffset) {
 		this.qrxLevMinOffset = qrxLevMinOffset;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -596,6 +613,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public CellSelection withQrxLevMinOffset(Long qrxLevMinOffset) {
 		this.qrxLevMinOffset = qrxLevMinOffset;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -625,6 +643,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public void  setQhyst1s(Long qhyst1s) {
 		this.qhyst1s = qhyst1s;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -640,6 +659,7 @@ This value is only meaningful if {{param|QualityMeasureCPICH}} has the value {{e
 	 */
 	public CellSelection withQhyst1s(Long qhyst1s) {
 		this.qhyst1s = qhyst1s;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -673,6 +693,7 @@ By default when {{param|QHyst1s}} is set and {{param}} is not, then the value fo
 	 */
 	public void  setQhyst2s(Long qhyst2s) {
 		this.qhyst2s = qhyst2s;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -690,6 +711,7 @@ By default when {{param|QHyst1s}} is set and {{param}} is not, then the value fo
 	 */
 	public CellSelection withQhyst2s(Long qhyst2s) {
 		this.qhyst2s = qhyst2s;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -719,6 +741,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setTreselections(Long treselections) {
 		this.treselections = treselections;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -734,6 +757,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withTreselections(Long treselections) {
 		this.treselections = treselections;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -767,6 +791,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setSintrasearch(Integer sintrasearch) {
 		this.sintrasearch = sintrasearch;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -784,6 +809,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withSintrasearch(Integer sintrasearch) {
 		this.sintrasearch = sintrasearch;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -817,6 +843,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setSintersearch(Integer sintersearch) {
 		this.sintersearch = sintersearch;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -834,6 +861,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withSintersearch(Integer sintersearch) {
 		this.sintersearch = sintersearch;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -871,6 +899,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setSsearchHCS(Integer ssearchHCS) {
 		this.ssearchHCS = ssearchHCS;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -890,6 +919,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withSsearchHCS(Integer ssearchHCS) {
 		this.ssearchHCS = ssearchHCS;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -923,6 +953,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setSsearchRAT(Integer ssearchRAT) {
 		this.ssearchRAT = ssearchRAT;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -940,6 +971,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withSsearchRAT(Integer ssearchRAT) {
 		this.ssearchRAT = ssearchRAT;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -973,6 +1005,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setShcSRAT(Integer shcSRAT) {
 		this.shcSRAT = shcSRAT;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -990,6 +1023,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withShcSRAT(Integer shcSRAT) {
 		this.shcSRAT = shcSRAT;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1023,6 +1057,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setSlimitSearchRAT(Integer slimitSearchRAT) {
 		this.slimitSearchRAT = slimitSearchRAT;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1040,6 +1075,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withSlimitSearchRAT(Integer slimitSearchRAT) {
 		this.slimitSearchRAT = slimitSearchRAT;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1069,6 +1105,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setNonHCSTCRMax(String nonHCSTCRMax) {
 		this.nonHCSTCRMax = nonHCSTCRMax;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1084,6 +1121,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withNonHCSTCRMax(String nonHCSTCRMax) {
 		this.nonHCSTCRMax = nonHCSTCRMax;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1113,6 +1151,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setNonHCSNCR(Long nonHCSNCR) {
 		this.nonHCSNCR = nonHCSNCR;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1128,6 +1167,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withNonHCSNCR(Long nonHCSNCR) {
 		this.nonHCSNCR = nonHCSNCR;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1157,6 +1197,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public void  setNonHCSTCRMaxHyst(String nonHCSTCRMaxHyst) {
 		this.nonHCSTCRMaxHyst = nonHCSTCRMaxHyst;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1172,6 +1213,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.2.3}}.
 	 */
 	public CellSelection withNonHCSTCRMaxHyst(String nonHCSTCRMaxHyst) {
 		this.nonHCSTCRMaxHyst = nonHCSTCRMaxHyst;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1201,6 +1243,7 @@ Defines the quality threshold levels for applying prioritised hierarchical cell
 	 */
 	public void  setQhcS(Long qhcS) {
 		this.qhcS = qhcS;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1216,6 +1259,7 @@ Defines the quality threshold levels for applying prioritised hierarchical cell
 	 */
 	public CellSelection withQhcS(Long qhcS) {
 		this.qhcS = qhcS;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1245,6 +1289,7 @@ Indicate whether HCS is used in this cell or not.
 	 */
 	public void  setUseOfHCS(Boolean useOfHCS) {
 		this.useOfHCS = useOfHCS;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1260,6 +1305,7 @@ Indicate whether HCS is used in this cell or not.
 	 */
 	public CellSelection withUseOfHCS(Boolean useOfHCS) {
 		this.useOfHCS = useOfHCS;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1289,6 +1335,7 @@ Defines the HCS priority of this cell.
 	 */
 	public void  setHcsPrio(Long hcsPrio) {
 		this.hcsPrio = hcsPrio;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1304,6 +1351,7 @@ Defines the HCS priority of this cell.
 	 */
 	public CellSelection withHcsPrio(Long hcsPrio) {
 		this.hcsPrio = hcsPrio;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1333,6 +1381,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.7.12}}.
 	 */
 	public void  setTcrMax(String tcrMax) {
 		this.tcrMax = tcrMax;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1348,6 +1397,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.7.12}}.
 	 */
 	public CellSelection withTcrMax(String tcrMax) {
 		this.tcrMax = tcrMax;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1377,6 +1427,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.7.12}}.
 	 */
 	public void  setNcr(Long ncr) {
 		this.ncr = ncr;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1392,6 +1443,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.7.12}}.
 	 */
 	public CellSelection withNcr(Long ncr) {
 		this.ncr = ncr;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1421,6 +1473,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.7.12}}.
 	 */
 	public void  setTcrMaxHyst(String tcrMaxHyst) {
 		this.tcrMaxHyst = tcrMaxHyst;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1436,6 +1489,7 @@ Parameter defined in SIB3 {{bibref|3GPP-TS.25.331|Section 10.3.7.12}}.
 	 */
 	public CellSelection withTcrMaxHyst(String tcrMaxHyst) {
 		this.tcrMaxHyst = tcrMaxHyst;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1465,6 +1519,7 @@ Defines the maximum transmit power level, specified in dBm, that an UE MAY use w
 	 */
 	public void  setUetxPwrMaxRACH(Integer uetxPwrMaxRACH) {
 		this.uetxPwrMaxRACH = uetxPwrMaxRACH;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1480,6 +1535,7 @@ Defines the maximum transmit power level, specified in dBm, that an UE MAY use w
 	 */
 	public CellSelection withUetxPwrMaxRACH(Integer uetxPwrMaxRACH) {
 		this.uetxPwrMaxRACH = uetxPwrMaxRACH;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to DRX parameters.
@@ -77,6 +78,11 @@ The duration of the DRX cycle is 2 <power> k frames, where 'k' is the used DRX c
 	@Size(min = 3, max = 9)
 	public Long utrANDRXCycleLengthCoefficient;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public DRX() {
 	}
 
@@ -107,6 +113,7 @@ The duration of the DRX cycle is 2 <power> k frames, where 'k' is the used DRX c
 	 */
 	public void  setDrxCycleLengthCoefficientCS(Long drxCycleLengthCoefficientCS) {
 		this.drxCycleLengthCoefficientCS = drxCycleLengthCoefficientCS;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +129,7 @@ The duration of the DRX cycle is 2 <power> k frames, where 'k' is the used DRX c
 	 */
 	public DRX withDrxCycleLengthCoefficientCS(Long drxCycleLengthCoefficientCS) {
 		this.drxCycleLengthCoefficientCS = drxCycleLengthCoefficientCS;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -151,6 +159,7 @@ The duration of the DRX cycle is 2 <power> k frames, where 'k' is the used DRX c
 	 */
 	public void  setDrxCycleLengthCoefficientPS(Long drxCycleLengthCoefficientPS) {
 		this.drxCycleLengthCoefficientPS = drxCycleLengthCoefficientPS;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -166,6 +175,7 @@ The duration of the DRX cycle is 2 <power> k frames, where 'k' is the used DRX c
 	 */
 	public DRX withDrxCycleLengthCoefficientPS(Long drxCycleLengthCoefficientPS) {
 		this.drxCycleLengthCoefficientPS = drxCycleLengthCoefficientPS;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -199,6 +209,7 @@ The duration of the DRX cycle is 2 <power> k frames, where 'k' is the used DRX c
 	 */
 	public void  setUtrANDRXCycleLengthCoefficient(Long utrANDRXCycleLengthCoefficient) {
 		this.utrANDRXCycleLengthCoefficient = utrANDRXCycleLengthCoefficient;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -216,6 +227,7 @@ The duration of the DRX cycle is 2 <power> k frames, where 'k' is the used DRX c
 	 */
 	public DRX withUtrANDRXCycleLengthCoefficient(Long utrANDRXCycleLengthCoefficient) {
 		this.utrANDRXCycleLengthCoefficient = utrANDRXCycleLengthCoefficient;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
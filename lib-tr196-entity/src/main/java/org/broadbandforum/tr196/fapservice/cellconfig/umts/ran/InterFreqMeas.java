@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.interfreqmeas.Instance;
 
 	/**
@@ -288,6 +291,11 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	@CWMPParameter(access = "readWrite")
 	public Collection<Instance> instances;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterFreqMeas() {
 	}
 
@@ -322,6 +330,7 @@ Enumeration of:
 	 */
 	public void  setMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -339,6 +348,7 @@ Enumeration of:
 	 */
 	public InterFreqMeas withMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -364,6 +374,7 @@ Enumeration of:
 	 */
 	public void  setFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -377,6 +388,7 @@ Enumeration of:
 	 */
 	public InterFreqMeas withFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -395,6 +407,21 @@ Defines the identity of the event used to trigger inter-frequency UE reporting (
 		return interFrequencyEventIdentity;
 	}
 
+	/**
+	 * Read the {{list}} Each entry is an Event ID from the list of: 2a, 2b, 2c, 2d, 2e,2f
+
+Defines the identity of the event used to trigger inter-frequency UE reporting (in case of event-triggered reporting).
+
+{{bibref|3GPP-TS.25.331|Section 10.3.7.14}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewInterFrequencyEventIdentity() {
+		return interFrequencyEventIdentity == null ? Collections.emptyList() : interFrequencyEventIdentity;
+	}
+
 	/**
 	 * Set the {{list}} Each entry is an Event ID from the list of: 2a, 2b, 2c, 2d, 2e,2f
 
@@ -407,6 +434,7 @@ Defines the identity of the event used to trigger inter-frequency UE reporting (
 	 */
 	public void  setInterFrequencyEventIdentity(Collection<String> interFrequencyEventIdentity) {
 		this.interFrequencyEventIdentity = interFrequencyEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -422,6 +450,7 @@ Defines the identity of the event used to trigger inter-frequency UE reporting (
 	 */
 	public InterFreqMeas withInterFrequencyEventIdentity(String string) {
 		getInterFrequencyEventIdentity().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -451,6 +480,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactorEvent2a(Long weightingFactorEvent2a) {
 		this.weightingFactorEvent2a = weightingFactorEvent2a;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -466,6 +496,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public InterFreqMeas withWeightingFactorEvent2a(Long weightingFactorEvent2a) {
 		this.weightingFactorEvent2a = weightingFactorEvent2a;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -495,6 +526,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactorEvent2b(Long weightingFactorEvent2b) {
 		this.weightingFactorEvent2b = weightingFactorEvent2b;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -510,6 +542,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public InterFreqMeas withWeightingFactorEvent2b(Long weightingFactorEvent2b) {
 		this.weightingFactorEvent2b = weightingFactorEvent2b;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -539,6 +572,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactorEvent2d(Long weightingFactorEvent2d) {
 		this.weightingFactorEvent2d = weightingFactorEvent2d;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -554,6 +588,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public InterFreqMeas withWeightingFactorEvent2d(Long weightingFactorEvent2d) {
 		this.weightingFactorEvent2d = weightingFactorEvent2d;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -583,6 +618,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactorEvent2f(Long weightingFactorEvent2f) {
 		this.weightingFactorEvent2f = weightingFactorEvent2f;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -598,6 +634,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public InterFreqMeas withWeightingFactorEvent2f(Long weightingFactorEvent2f) {
 		this.weightingFactorEvent2f = weightingFactorEvent2f;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -627,6 +664,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public void  setHysteresisEvent2a(Long hysteresisEvent2a) {
 		this.hysteresisEvent2a = hysteresisEvent2a;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -642,6 +680,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public InterFreqMeas withHysteresisEvent2a(Long hysteresisEvent2a) {
 		this.hysteresisEvent2a = hysteresisEvent2a;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -671,6 +710,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public void  setHysteresisEvent2b(Long hysteresisEvent2b) {
 		this.hysteresisEvent2b = hysteresisEvent2b;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -686,6 +726,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public InterFreqMeas withHysteresisEvent2b(Long hysteresisEvent2b) {
 		this.hysteresisEvent2b = hysteresisEvent2b;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -715,6 +756,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public void  setHysteresisEvent2d(Long hysteresisEvent2d) {
 		this.hysteresisEvent2d = hysteresisEvent2d;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -730,6 +772,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public InterFreqMeas withHysteresisEvent2d(Long hysteresisEvent2d) {
 		this.hysteresisEvent2d = hysteresisEvent2d;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -759,6 +802,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public void  setHysteresisEvent2f(Long hysteresisEvent2f) {
 		this.hysteresisEvent2f = hysteresisEvent2f;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -774,6 +818,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public InterFreqMeas withHysteresisEvent2f(Long hysteresisEvent2f) {
 		this.hysteresisEvent2f = hysteresisEvent2f;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -803,6 +848,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent2a(Long timeToTriggerEvent2a) {
 		this.timeToTriggerEvent2a = timeToTriggerEvent2a;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -818,6 +864,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterFreqMeas withTimeToTriggerEvent2a(Long timeToTriggerEvent2a) {
 		this.timeToTriggerEvent2a = timeToTriggerEvent2a;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -847,6 +894,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent2b(Long timeToTriggerEvent2b) {
 		this.timeToTriggerEvent2b = timeToTriggerEvent2b;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -862,6 +910,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterFreqMeas withTimeToTriggerEvent2b(Long timeToTriggerEvent2b) {
 		this.timeToTriggerEvent2b = timeToTriggerEvent2b;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -891,6 +940,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent2d(Long timeToTriggerEvent2d) {
 		this.timeToTriggerEvent2d = timeToTriggerEvent2d;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -906,6 +956,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterFreqMeas withTimeToTriggerEvent2d(Long timeToTriggerEvent2d) {
 		this.timeToTriggerEvent2d = timeToTriggerEvent2d;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -935,6 +986,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent2f(Long timeToTriggerEvent2f) {
 		this.timeToTriggerEvent2f = timeToTriggerEvent2f;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -950,6 +1002,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterFreqMeas withTimeToTriggerEvent2f(Long timeToTriggerEvent2f) {
 		this.timeToTriggerEvent2f = timeToTriggerEvent2f;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -983,6 +1036,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdUsedFrequencyEvent2b(Integer thresholdUsedFrequencyEvent2b) {
 		this.thresholdUsedFrequencyEvent2b = thresholdUsedFrequencyEvent2b;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1000,6 +1054,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public InterFreqMeas withThresholdUsedFrequencyEvent2b(Integer thresholdUsedFrequencyEvent2b) {
 		this.thresholdUsedFrequencyEvent2b = thresholdUsedFrequencyEvent2b;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1033,6 +1088,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdUsedFrequencyEvent2d(Integer thresholdUsedFrequencyEvent2d) {
 		this.thresholdUsedFrequencyEvent2d = thresholdUsedFrequencyEvent2d;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1050,6 +1106,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public InterFreqMeas withThresholdUsedFrequencyEvent2d(Integer thresholdUsedFrequencyEvent2d) {
 		this.thresholdUsedFrequencyEvent2d = thresholdUsedFrequencyEvent2d;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1083,6 +1140,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdUsedFrequencyEvent2f(Integer thresholdUsedFrequencyEvent2f) {
 		this.thresholdUsedFrequencyEvent2f = thresholdUsedFrequencyEvent2f;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1100,6 +1158,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public InterFreqMeas withThresholdUsedFrequencyEvent2f(Integer thresholdUsedFrequencyEvent2f) {
 		this.thresholdUsedFrequencyEvent2f = thresholdUsedFrequencyEvent2f;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1109,10 +1168,20 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 * @return the value
 	 */
 	public Collection<Instance> getInstances() {
-		if (this.instances == null){ this.instances=new ArrayList<>();}
+		if (!(this.instances instanceof InstanceTable)){ this.instances=InstanceTable.of(this.instances);}
 		return instances;
 	}
 
+	/**
+	 * Read the table containing parameters relating to a particular instance of inter-freq events.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Instance> viewInstances() {
+		return instances == null ? Collections.emptyList() : instances;
+	}
+
 	/**
 	 * Set the table containing parameters relating to a particular instance of inter-freq events.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +26,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.interratmeas.Instance;
 
 	/**
@@ -125,6 +127,11 @@ Only the specified values are considered valid, any value other than those and t
 	@CWMPParameter(access = "readWrite")
 	public Collection<Instance> instances;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterRATMeas() {
 	}
 
@@ -151,6 +158,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setGsmFilterCoefficient(Long gsmFilterCoefficient) {
 		this.gsmFilterCoefficient = gsmFilterCoefficient;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -164,6 +172,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterRATMeas withGsmFilterCoefficient(Long gsmFilterCoefficient) {
 		this.gsmFilterCoefficient = gsmFilterCoefficient;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -189,6 +198,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setBsiCVerificationRequired(Boolean bsiCVerificationRequired) {
 		this.bsiCVerificationRequired = bsiCVerificationRequired;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -202,6 +212,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterRATMeas withBsiCVerificationRequired(Boolean bsiCVerificationRequired) {
 		this.bsiCVerificationRequired = bsiCVerificationRequired;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -231,6 +242,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -246,6 +258,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public InterRATMeas withWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -275,6 +288,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -290,6 +304,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public InterRATMeas withHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -319,6 +334,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -334,6 +350,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterRATMeas withTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -355,6 +372,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setThresholdOwnSystem(Integer thresholdOwnSystem) {
 		this.thresholdOwnSystem = thresholdOwnSystem;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -366,6 +384,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterRATMeas withThresholdOwnSystem(Integer thresholdOwnSystem) {
 		this.thresholdOwnSystem = thresholdOwnSystem;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -387,6 +406,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setThresholdOtherSystem(Integer thresholdOtherSystem) {
 		this.thresholdOtherSystem = thresholdOtherSystem;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -398,6 +418,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public InterRATMeas withThresholdOtherSystem(Integer thresholdOtherSystem) {
 		this.thresholdOtherSystem = thresholdOtherSystem;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -407,10 +428,20 @@ Only the specified values are considered valid, any value other than those and t
 	 * @return the value
 	 */
 	public Collection<Instance> getInstances() {
-		if (this.instances == null){ this.instances=new ArrayList<>();}
+		if (!(this.instances instanceof InstanceTable)){ this.instances=InstanceTable.of(this.instances);}
 		return instances;
 	}
 
+	/**
+	 * Read the table containing parameters relating to a particular instance of inter-freq events.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Instance> viewInstances() {
+		return instances == null ? Collections.emptyList() : instances;
+	}
+
 	/**
 	 * Set the table containing parameters relating to a particular instance of inter-freq events.
 	 *
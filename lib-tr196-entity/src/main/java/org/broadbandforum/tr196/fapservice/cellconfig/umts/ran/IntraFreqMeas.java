@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.intrafreqmeas.Instance;
 
 	/**
@@ -453,6 +456,11 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	@CWMPParameter(access = "readWrite")
 	public Collection<Instance> instances;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public IntraFreqMeas() {
 	}
 
@@ -487,6 +495,7 @@ Enumeration of:
 	 */
 	public void  setMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -504,6 +513,7 @@ Enumeration of:
 	 */
 	public IntraFreqMeas withMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -529,6 +539,7 @@ Enumeration of:
 	 */
 	public void  setFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -542,6 +553,7 @@ Enumeration of:
 	 */
 	public IntraFreqMeas withFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -562,6 +574,23 @@ Since the FAP can determine this on its own, it might not be necessary to config
 		return intraFrequencyEventIdentity;
 	}
 
+	/**
+	 * Read the {{list}} Each entry is an Event ID from the list of: 1a, 1b, 1c, 1d, 1e, 1f, 1g, 1h, 1i
+
+Defines the identity of the event used to trigger UE reporting (in case of event-triggered reporting).
+
+{{bibref|3GPP-TS.25.331|Section 10.3.7.34}}
+
+Since the FAP can determine this on its own, it might not be necessary to configure it.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIntraFrequencyEventIdentity() {
+		return intraFrequencyEventIdentity == null ? Collections.emptyList() : intraFrequencyEventIdentity;
+	}
+
 	/**
 	 * Set the {{list}} Each entry is an Event ID from the list of: 1a, 1b, 1c, 1d, 1e, 1f, 1g, 1h, 1i
 
@@ -576,6 +605,7 @@ Since the FAP can determine this on its own, it might not be necessary to config
 	 */
 	public void  setIntraFrequencyEventIdentity(Collection<String> intraFrequencyEventIdentity) {
 		this.intraFrequencyEventIdentity = intraFrequencyEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -593,6 +623,7 @@ Since the FAP can determine this on its own, it might not be necessary to config
 	 */
 	public IntraFreqMeas withIntraFrequencyEventIdentity(String string) {
 		getIntraFrequencyEventIdentity().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -611,6 +642,21 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 		return triggeringCondition2Event1a;
 	}
 
+	/**
+	 * Read the {{list}} Indicates which cells can trigger Event 1a. 
+
+Enumerated value must be one of [Active, Monitored, Active and Monitored, Detected, Detected and Monitored]
+
+{{bibref|3GPP-TS.25.331|Section 14.1.2 and Section 10.3.7.39}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTriggeringCondition2Event1a() {
+		return triggeringCondition2Event1a == null ? Collections.emptyList() : triggeringCondition2Event1a;
+	}
+
 	/**
 	 * Set the {{list}} Indicates which cells can trigger Event 1a. 
 
@@ -623,6 +669,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 	 */
 	public void  setTriggeringCondition2Event1a(Collection<String> triggeringCondition2Event1a) {
 		this.triggeringCondition2Event1a = triggeringCondition2Event1a;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -638,6 +685,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 	 */
 	public IntraFreqMeas withTriggeringCondition2Event1a(String string) {
 		getTriggeringCondition2Event1a().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -656,6 +704,21 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored]
 		return triggeringCondition1Event1b;
 	}
 
+	/**
+	 * Read the {{list}} Indicates which cells can trigger Event 1b. 
+
+Enumerated value must be one of [Active, Monitored, Active and Monitored]
+
+{{bibref|3GPP-TS.25.331|Section 14.1.2 and Section 10.3.7.39}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTriggeringCondition1Event1b() {
+		return triggeringCondition1Event1b == null ? Collections.emptyList() : triggeringCondition1Event1b;
+	}
+
 	/**
 	 * Set the {{list}} Indicates which cells can trigger Event 1b. 
 
@@ -668,6 +731,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored]
 	 */
 	public void  setTriggeringCondition1Event1b(Collection<String> triggeringCondition1Event1b) {
 		this.triggeringCondition1Event1b = triggeringCondition1Event1b;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -683,6 +747,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored]
 	 */
 	public IntraFreqMeas withTriggeringCondition1Event1b(String string) {
 		getTriggeringCondition1Event1b().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -701,6 +766,21 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 		return triggeringCondition2Event1e;
 	}
 
+	/**
+	 * Read the {{list}} Indicates which cells can trigger Event 1e. 
+
+Enumerated value must be one of [Active, Monitored, Active and Monitored, Detected, Detected and Monitored]
+
+{{bibref|3GPP-TS.25.331|Section 14.1.2 and Section 10.3.7.39}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTriggeringCondition2Event1e() {
+		return triggeringCondition2Event1e == null ? Collections.emptyList() : triggeringCondition2Event1e;
+	}
+
 	/**
 	 * Set the {{list}} Indicates which cells can trigger Event 1e. 
 
@@ -713,6 +793,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 	 */
 	public void  setTriggeringCondition2Event1e(Collection<String> triggeringCondition2Event1e) {
 		this.triggeringCondition2Event1e = triggeringCondition2Event1e;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -728,6 +809,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 	 */
 	public IntraFreqMeas withTriggeringCondition2Event1e(String string) {
 		getTriggeringCondition2Event1e().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -746,6 +828,21 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored]
 		return triggeringCondition1Event1f;
 	}
 
+	/**
+	 * Read the {{list}} Indicates which cells can trigger Event 1f. 
+
+Enumerated value must be one of [Active, Monitored, Active and Monitored]
+
+{{bibref|3GPP-TS.25.331|Section 14.1.2 and Section 10.3.7.39}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTriggeringCondition1Event1f() {
+		return triggeringCondition1Event1f == null ? Collections.emptyList() : triggeringCondition1Event1f;
+	}
+
 	/**
 	 * Set the {{list}} Indicates which cells can trigger Event 1f. 
 
@@ -758,6 +855,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored]
 	 */
 	public void  setTriggeringCondition1Event1f(Collection<String> triggeringCondition1Event1f) {
 		this.triggeringCondition1Event1f = triggeringCondition1Event1f;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -773,6 +871,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored]
 	 */
 	public IntraFreqMeas withTriggeringCondition1Event1f(String string) {
 		getTriggeringCondition1Event1f().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -802,6 +901,7 @@ Actual values of the range are 0.0 to 14.5 dB in steps of 0.5 dB. The value of {
 	 */
 	public void  setReportingRangeEvent1a(Long reportingRangeEvent1a) {
 		this.reportingRangeEvent1a = reportingRangeEvent1a;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -817,6 +917,7 @@ Actual values of the range are 0.0 to 14.5 dB in steps of 0.5 dB. The value of {
 	 */
 	public IntraFreqMeas withReportingRangeEvent1a(Long reportingRangeEvent1a) {
 		this.reportingRangeEvent1a = reportingRangeEvent1a;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -846,6 +947,7 @@ Actual values of the range are 0.0 to 14.5 dB in steps of 0.5 dB. The value of {
 	 */
 	public void  setReportingRangeEvent1b(Long reportingRangeEvent1b) {
 		this.reportingRangeEvent1b = reportingRangeEvent1b;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -861,6 +963,7 @@ Actual values of the range are 0.0 to 14.5 dB in steps of 0.5 dB. The value of {
 	 */
 	public IntraFreqMeas withReportingRangeEvent1b(Long reportingRangeEvent1b) {
 		this.reportingRangeEvent1b = reportingRangeEvent1b;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -890,6 +993,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactorEvent1a(Long weightingFactorEvent1a) {
 		this.weightingFactorEvent1a = weightingFactorEvent1a;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -905,6 +1009,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public IntraFreqMeas withWeightingFactorEvent1a(Long weightingFactorEvent1a) {
 		this.weightingFactorEvent1a = weightingFactorEvent1a;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -934,6 +1039,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactorEvent1b(Long weightingFactorEvent1b) {
 		this.weightingFactorEvent1b = weightingFactorEvent1b;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -949,6 +1055,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public IntraFreqMeas withWeightingFactorEvent1b(Long weightingFactorEvent1b) {
 		this.weightingFactorEvent1b = weightingFactorEvent1b;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -974,6 +1081,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setReportDeactivationThresholdEvent1a(Long reportDeactivationThresholdEvent1a) {
 		this.reportDeactivationThresholdEvent1a = reportDeactivationThresholdEvent1a;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -987,6 +1095,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public IntraFreqMeas withReportDeactivationThresholdEvent1a(Long reportDeactivationThresholdEvent1a) {
 		this.reportDeactivationThresholdEvent1a = reportDeactivationThresholdEvent1a;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1016,6 +1125,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public void  setReportingAmountEvent1a(Integer reportingAmountEvent1a) {
 		this.reportingAmountEvent1a = reportingAmountEvent1a;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1031,6 +1141,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public IntraFreqMeas withReportingAmountEvent1a(Integer reportingAmountEvent1a) {
 		this.reportingAmountEvent1a = reportingAmountEvent1a;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1060,6 +1171,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public void  setReportingAmountEvent1c(Integer reportingAmountEvent1c) {
 		this.reportingAmountEvent1c = reportingAmountEvent1c;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1075,6 +1187,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public IntraFreqMeas withReportingAmountEvent1c(Integer reportingAmountEvent1c) {
 		this.reportingAmountEvent1c = reportingAmountEvent1c;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1100,6 +1213,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public void  setReportingIntervalEvent1a(Long reportingIntervalEvent1a) {
 		this.reportingIntervalEvent1a = reportingIntervalEvent1a;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1113,6 +1227,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public IntraFreqMeas withReportingIntervalEvent1a(Long reportingIntervalEvent1a) {
 		this.reportingIntervalEvent1a = reportingIntervalEvent1a;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1138,6 +1253,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public void  setReportingIntervalEvent1c(Long reportingIntervalEvent1c) {
 		this.reportingIntervalEvent1c = reportingIntervalEvent1c;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1151,6 +1267,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public IntraFreqMeas withReportingIntervalEvent1c(Long reportingIntervalEvent1c) {
 		this.reportingIntervalEvent1c = reportingIntervalEvent1c;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1180,6 +1297,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresisEvent1a(Long hysteresisEvent1a) {
 		this.hysteresisEvent1a = hysteresisEvent1a;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1195,6 +1313,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public IntraFreqMeas withHysteresisEvent1a(Long hysteresisEvent1a) {
 		this.hysteresisEvent1a = hysteresisEvent1a;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1224,6 +1343,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresisEvent1b(Long hysteresisEvent1b) {
 		this.hysteresisEvent1b = hysteresisEvent1b;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1239,6 +1359,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public IntraFreqMeas withHysteresisEvent1b(Long hysteresisEvent1b) {
 		this.hysteresisEvent1b = hysteresisEvent1b;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1268,6 +1389,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresisEvent1c(Long hysteresisEvent1c) {
 		this.hysteresisEvent1c = hysteresisEvent1c;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1283,6 +1405,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public IntraFreqMeas withHysteresisEvent1c(Long hysteresisEvent1c) {
 		this.hysteresisEvent1c = hysteresisEvent1c;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1312,6 +1435,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresisEvent1d(Long hysteresisEvent1d) {
 		this.hysteresisEvent1d = hysteresisEvent1d;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1327,6 +1451,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public IntraFreqMeas withHysteresisEvent1d(Long hysteresisEvent1d) {
 		this.hysteresisEvent1d = hysteresisEvent1d;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1356,6 +1481,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresisEvent1e(Long hysteresisEvent1e) {
 		this.hysteresisEvent1e = hysteresisEvent1e;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1371,6 +1497,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public IntraFreqMeas withHysteresisEvent1e(Long hysteresisEvent1e) {
 		this.hysteresisEvent1e = hysteresisEvent1e;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1400,6 +1527,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresisEvent1f(Long hysteresisEvent1f) {
 		this.hysteresisEvent1f = hysteresisEvent1f;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1415,6 +1543,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public IntraFreqMeas withHysteresisEvent1f(Long hysteresisEvent1f) {
 		this.hysteresisEvent1f = hysteresisEvent1f;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1444,6 +1573,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent1a(Long timeToTriggerEvent1a) {
 		this.timeToTriggerEvent1a = timeToTriggerEvent1a;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1459,6 +1589,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public IntraFreqMeas withTimeToTriggerEvent1a(Long timeToTriggerEvent1a) {
 		this.timeToTriggerEvent1a = timeToTriggerEvent1a;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1488,6 +1619,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent1b(Long timeToTriggerEvent1b) {
 		this.timeToTriggerEvent1b = timeToTriggerEvent1b;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1503,6 +1635,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public IntraFreqMeas withTimeToTriggerEvent1b(Long timeToTriggerEvent1b) {
 		this.timeToTriggerEvent1b = timeToTriggerEvent1b;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1532,6 +1665,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent1c(Long timeToTriggerEvent1c) {
 		this.timeToTriggerEvent1c = timeToTriggerEvent1c;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1547,6 +1681,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public IntraFreqMeas withTimeToTriggerEvent1c(Long timeToTriggerEvent1c) {
 		this.timeToTriggerEvent1c = timeToTriggerEvent1c;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1576,6 +1711,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent1d(Long timeToTriggerEvent1d) {
 		this.timeToTriggerEvent1d = timeToTriggerEvent1d;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1591,6 +1727,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public IntraFreqMeas withTimeToTriggerEvent1d(Long timeToTriggerEvent1d) {
 		this.timeToTriggerEvent1d = timeToTriggerEvent1d;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1620,6 +1757,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent1e(Long timeToTriggerEvent1e) {
 		this.timeToTriggerEvent1e = timeToTriggerEvent1e;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1635,6 +1773,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public IntraFreqMeas withTimeToTriggerEvent1e(Long timeToTriggerEvent1e) {
 		this.timeToTriggerEvent1e = timeToTriggerEvent1e;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1664,6 +1803,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent1f(Long timeToTriggerEvent1f) {
 		this.timeToTriggerEvent1f = timeToTriggerEvent1f;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1679,6 +1819,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public IntraFreqMeas withTimeToTriggerEvent1f(Long timeToTriggerEvent1f) {
 		this.timeToTriggerEvent1f = timeToTriggerEvent1f;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
@@ -1716,6 +1857,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdUsedFrequencyEvent1e(Integer thresholdUsedFrequencyEvent1e) {
 		this.thresholdUsedFrequencyEvent1e = thresholdUsedFrequencyEvent1e;
+		if (this.dirty != null){ this.dirty.set(28);}
 	}
 
 	/**
@@ -1735,6 +1877,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public IntraFreqMeas withThresholdUsedFrequencyEvent1e(Integer thresholdUsedFrequencyEvent1e) {
 		this.thresholdUsedFrequencyEvent1e = thresholdUsedFrequencyEvent1e;
+		if (this.dirty != null){ this.dirty.set(28);}
 		return this;
 	}
 
@@ -1772,6 +1915,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdUsedFrequencyEvent1f(Integer thresholdUsedFrequencyEvent1f) {
 		this.thresholdUsedFrequencyEvent1f = thresholdUsedFrequencyEvent1f;
+		if (this.dirty != null){ this.dirty.set(29);}
 	}
 
 	/**
@@ -1791,6 +1935,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public IntraFreqMeas withThresholdUsedFrequencyEvent1f(Integer thresholdUsedFrequencyEvent1f) {
 		this.thresholdUsedFrequencyEvent1f = thresholdUsedFrequencyEvent1f;
+		if (this.dirty != null){ this.dirty.set(29);}
 		return this;
 	}
 
@@ -1816,6 +1961,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setReplacementActivationThresholdEvent1c(Long replacementActivationThresholdEvent1c) {
 		this.replacementActivationThresholdEvent1c = replacementActivationThresholdEvent1c;
+		if (this.dirty != null){ this.dirty.set(30);}
 	}
 
 	/**
@@ -1829,6 +1975,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public IntraFreqMeas withReplacementActivationThresholdEvent1c(Long replacementActivationThresholdEvent1c) {
 		this.replacementActivationThresholdEvent1c = replacementActivationThresholdEvent1c;
+		if (this.dirty != null){ this.dirty.set(30);}
 		return this;
 	}
 
@@ -1838,10 +1985,20 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 * @return the value
 	 */
 	public Collection<Instance> getInstances() {
-		if (this.instances == null){ this.instances=new ArrayList<>();}
+		if (!(this.instances instanceof InstanceTable)){ this.instances=InstanceTable.of(this.instances);}
 		return instances;
 	}
 
+	/**
+	 * Read the table containing parameters relating to a particular instance of intra-freq events.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Instance> viewInstances() {
+		return instances == null ? Collections.emptyList() : instances;
+	}
+
 	/**
 	 * Set the table containing parameters relating to a particular instance of intra-freq events.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlist.InterFreqCell;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlist.InterRATCell;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlist.IntraFreqCell;
@@ -74,6 +76,11 @@ public class NeighborList {
 	@XmlElement(name = "InterRATCell")
 	public InterRATCell interRATCell;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NeighborList() {
 	}
 
@@ -96,6 +103,7 @@ public class NeighborList {
 	 */
 	public void  setMaxIntraFreqCellEntries(Long maxIntraFreqCellEntries) {
 		this.maxIntraFreqCellEntries = maxIntraFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -107,6 +115,7 @@ public class NeighborList {
 	 */
 	public NeighborList withMaxIntraFreqCellEntries(Long maxIntraFreqCellEntries) {
 		this.maxIntraFreqCellEntries = maxIntraFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -128,6 +137,7 @@ public class NeighborList {
 	 */
 	public void  setMaxInterFreqCellEntries(Long maxInterFreqCellEntries) {
 		this.maxInterFreqCellEntries = maxInterFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -139,6 +149,7 @@ public class NeighborList {
 	 */
 	public NeighborList withMaxInterFreqCellEntries(Long maxInterFreqCellEntries) {
 		this.maxInterFreqCellEntries = maxInterFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,10 +159,20 @@ public class NeighborList {
 	 * @return the value
 	 */
 	public Collection<IntraFreqCell> getIntraFreqCells() {
-		if (this.intraFreqCells == null){ this.intraFreqCells=new ArrayList<>();}
+		if (!(this.intraFreqCells instanceof InstanceTable)){ this.intraFreqCells=InstanceTable.of(this.intraFreqCells);}
 		return intraFreqCells;
 	}
 
+	/**
+	 * Read the table containing the intra-frequency cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IntraFreqCell> viewIntraFreqCells() {
+		return intraFreqCells == null ? Collections.emptyList() : intraFreqCells;
+	}
+
 	/**
 	 * Set the table containing the intra-frequency cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
 	 *
@@ -178,10 +199,20 @@ public class NeighborList {
 	 * @return the value
 	 */
 	public Collection<InterFreqCell> getInterFreqCells() {
-		if (this.interFreqCells == null){ this.interFreqCells=new ArrayList<>();}
+		if (!(this.interFreqCells instanceof InstanceTable)){ this.interFreqCells=InstanceTable.of(this.interFreqCells);}
 		return interFreqCells;
 	}
 
+	/**
+	 * Read the table containing the inter-frequency cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InterFreqCell> viewInterFreqCells() {
+		return interFreqCells == null ? Collections.emptyList() : interFreqCells;
+	}
+
 	/**
 	 * Set the table containing the inter-frequency cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
 	 *
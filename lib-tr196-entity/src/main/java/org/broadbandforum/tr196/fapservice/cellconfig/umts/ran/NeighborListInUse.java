@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlistinuse.InterFreqCell;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlistinuse.InterRATCell;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlistinuse.IntraFreqCell;
@@ -71,6 +73,11 @@ public class NeighborListInUse {
 	@XmlElement(name = "InterRATCell")
 	public InterRATCell interRATCell;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public NeighborListInUse() {
 	}
 
@@ -93,6 +100,7 @@ public class NeighborListInUse {
 	 */
 	public void  setMaxIntraFreqCellEntries(Long maxIntraFreqCellEntries) {
 		this.maxIntraFreqCellEntries = maxIntraFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -104,6 +112,7 @@ public class NeighborListInUse {
 	 */
 	public NeighborListInUse withMaxIntraFreqCellEntries(Long maxIntraFreqCellEntries) {
 		this.maxIntraFreqCellEntries = maxIntraFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -125,6 +134,7 @@ public class NeighborListInUse {
 	 */
 	public void  setMaxInterFreqCellEntries(Long maxInterFreqCellEntries) {
 		this.maxInterFreqCellEntries = maxInterFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -136,6 +146,7 @@ public class NeighborListInUse {
 	 */
 	public NeighborListInUse withMaxInterFreqCellEntries(Long maxInterFreqCellEntries) {
 		this.maxInterFreqCellEntries = maxInterFreqCellEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -145,10 +156,20 @@ public class NeighborListInUse {
 	 * @return the value
 	 */
 	public Collection<IntraFreqCell> getIntraFreqCells() {
-		if (this.intraFreqCells == null){ this.intraFreqCells=new ArrayList<>();}
+		if (!(this.intraFreqCells instanceof InstanceTable)){ this.intraFreqCells=InstanceTable.of(this.intraFreqCells);}
 		return intraFreqCells;
 	}
 
+	/**
+	 * Read the table containing the intra-frequency cell list.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IntraFreqCell> viewIntraFreqCells() {
+		return intraFreqCells == null ? Collections.emptyList() : intraFreqCells;
+	}
+
 	/**
 	 * Set the table containing the intra-frequency cell list.
 	 *
@@ -175,10 +196,20 @@ public class NeighborListInUse {
 	 * @return the value
 	 */
 	public Collection<InterFreqCell> getInterFreqCells() {
-		if (this.interFreqCells == null){ this.interFreqCells=new ArrayList<>();}
+		if (!(this.interFreqCells instanceof InstanceTable)){ this.interFreqCells=InstanceTable.of(this.interFreqCells);}
 		return interFreqCells;
 	}
 
+	/**
+	 * Read the table containing the inter-frequency cell list.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<InterFreqCell> viewInterFreqCells() {
+		return interFreqCells == null ? Collections.emptyList() : interFreqCells;
+	}
+
 	/**
 	 * Set the table containing the inter-frequency cell list.
 	 *
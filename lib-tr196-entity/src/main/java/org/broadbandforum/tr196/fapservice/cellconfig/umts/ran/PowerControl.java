@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to power control and RACH.
@@ -137,6 +138,11 @@ Defines how many times the PRACH preamble ramping procedure can be repeated befo
 	@Size(min = 0, max = 50)
 	public Long nb01Max;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public PowerControl() {
 	}
 
@@ -167,6 +173,7 @@ Parameter in SIB5.
 	 */
 	public void  setConstantValue(Integer constantValue) {
 		this.constantValue = constantValue;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -182,6 +189,7 @@ Parameter in SIB5.
 	 */
 	public PowerControl withConstantValue(Integer constantValue) {
 		this.constantValue = constantValue;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -215,6 +223,7 @@ Parameter in SIB5.
 	 */
 	public void  setPowerRampStepUp(Long powerRampStepUp) {
 		this.powerRampStepUp = powerRampStepUp;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -232,6 +241,7 @@ Parameter in SIB5.
 	 */
 	public PowerControl withPowerRampStepUp(Long powerRampStepUp) {
 		this.powerRampStepUp = powerRampStepUp;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -269,6 +279,7 @@ Parameter in SIB5.
 	 */
 	public void  setPreambleRetransMax(Long preambleRetransMax) {
 		this.preambleRetransMax = preambleRetransMax;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -288,6 +299,7 @@ Parameter in SIB5.
 	 */
 	public PowerControl withPreambleRetransMax(Long preambleRetransMax) {
 		this.preambleRetransMax = preambleRetransMax;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -317,6 +329,7 @@ The value is the scaling factor multiplied by 10, e.g. 2 is a scaling factor of
 	 */
 	public void  setPersistenceScaleFactor(Long persistenceScaleFactor) {
 		this.persistenceScaleFactor = persistenceScaleFactor;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -332,6 +345,7 @@ The value is the scaling factor multiplied by 10, e.g. 2 is a scaling factor of
 	 */
 	public PowerControl withPersistenceScaleFactor(Long persistenceScaleFactor) {
 		this.persistenceScaleFactor = persistenceScaleFactor;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -361,6 +375,7 @@ Defines how many times the PRACH preamble ramping procedure can be repeated befo
 	 */
 	public void  setMmax(Long mmax) {
 		this.mmax = mmax;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -376,6 +391,7 @@ Defines how many times the PRACH preamble ramping procedure can be repeated befo
 	 */
 	public PowerControl withMmax(Long mmax) {
 		this.mmax = mmax;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -409,6 +425,7 @@ Defines how many times the PRACH preamble ramping procedure can be repeated befo
 	 */
 	public void  setNb01Min(Long nb01Min) {
 		this.nb01Min = nb01Min;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -426,6 +443,7 @@ Defines how many times the PRACH preamble ramping procedure can be repeated befo
 	 */
 	public PowerControl withNb01Min(Long nb01Min) {
 		this.nb01Min = nb01Min;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -459,6 +477,7 @@ Defines how many times the PRACH preamble ramping procedure can be repeated befo
 	 */
 	public void  setNb01Max(Long nb01Max) {
 		this.nb01Max = nb01Max;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -476,6 +495,7 @@ Defines how many times the PRACH preamble ramping procedure can be repeated befo
 	 */
 	public PowerControl withNb01Max(Long nb01Max) {
 		this.nb01Max = nb01Max;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
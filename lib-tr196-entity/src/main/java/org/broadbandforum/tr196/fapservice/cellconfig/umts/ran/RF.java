@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the RF configuration.
@@ -452,6 +454,11 @@ Self-configuration for noise rise limit is controlled by {{param|.Capabilities.U
 	@Size(min = 0, max = 500)
 	public Long noiseRiseLimitInUse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -481,6 +488,31 @@ The carrier spacing in FDD mode is fixed as defined in {{bibref|3GPP-TS.25.104}}
 		return uarFCNDL;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a DL UTRA Absolute Radio Frequency Channel Number (UARFCN) in an FDD mode cell.
+
+{{bibref|3GPP-TS.25.433|Section 9.2.1.65}}
+
+Self-configuration for UARFCN is controlled by {{param|.Capabilities.UMTS.SelfConfig.UARFCNConfig}} from an availability perspective and {{param|.FAPControl.UMTS.SelfConfig.UARFCNSelfConfigEnable}} from an enabled perspective.
+
+If the FAP's self-configuration capability for UARFCN is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for {{param|UARFCNDLInUse}}.
+
+If the self-configuration capability is not available or not enabled, then this parameter SHOULD contain only a single item.
+
+The UARFCN values supplied to the list are derived based on the formula defined in {{bibref|3GPP-TS.25.104|Section 5.4.3}}
+
+The order of the UARFCN entries has no significance.
+
+The carrier spacing in FDD mode is fixed as defined in {{bibref|3GPP-TS.25.104}}. Therefore, the FAP can unambiguously derive the UL UARFCN value based on the selected DL UARFCN.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUarFCNDL() {
+		return uarFCNDL == null ? Collections.emptyList() : uarFCNDL;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a DL UTRA Absolute Radio Frequency Channel Number (UARFCN) in an FDD mode cell.
 
@@ -503,6 +535,7 @@ The carrier spacing in FDD mode is fixed as defined in {{bibref|3GPP-TS.25.104}}
 	 */
 	public void  setUarFCNDL(Collection<String> uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -528,6 +561,7 @@ The carrier spacing in FDD mode is fixed as defined in {{bibref|3GPP-TS.25.104}}
 	 */
 	public RF withUarFCNDL(String string) {
 		getUarFCNDL().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -561,6 +595,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setUarFCNDLInUse(Long uarFCNDLInUse) {
 		this.uarFCNDLInUse = uarFCNDLInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -578,6 +613,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RF withUarFCNDLInUse(Long uarFCNDLInUse) {
 		this.uarFCNDLInUse = uarFCNDLInUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -603,6 +639,7 @@ The UL UARFCN that corresponds to {{param|UARFCNDLInUse}}.
 	 */
 	public void  setUarFCNULInUse(Long uarFCNULInUse) {
 		this.uarFCNULInUse = uarFCNULInUse;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -616,6 +653,7 @@ The UL UARFCN that corresponds to {{param|UARFCNDLInUse}}.
 	 */
 	public RF withUarFCNULInUse(Long uarFCNULInUse) {
 		this.uarFCNULInUse = uarFCNULInUse;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -640,6 +678,27 @@ If {{empty}} then it indicates that there are no channels adjacent to the FAP th
 		return uarFCNDLToProtect;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a DL UARFCNs to be protected from adjacent channel interference.  "Adjacent channel" in this context means offset from the FAP's UARFCN by 5MHz. {{bibref|3GPP-TS.25.104|Section 6.4.6}}
+
+If any of the items in the list are adjacent to the FAP's own DL channel, the FAP MUST take the Primary CPICH code power measured on these channels into account as part of its maximum transmit power self-configuration.
+
+The UARFCNs in the list can belong to any operator, allowing for protection of the FAP operator's own macro layer as well as that of other operators (only the latter is mandated by the {{bibref|3GPP-TS.25.104}} requirements).
+
+The list SHOULD take into account the ability of the FAP to self-configure its own DL UARFCN and so SHOULD include any channels (requiring protection) which can potentially be adjacent to the UARFCN selected by the FAP.
+
+For example, if only adjacent operator protection is required and the FAP has the ability to self-configure to any channel owned by its operator, this list would be populated with the UARFCNs immediately above and below the range of channels owned by the FAP operator. Adjacent channel protection can cause the FAP transmit power to be reduced down to as low as 8dBm.
+
+If {{empty}} then it indicates that there are no channels adjacent to the FAP that require protection, or that self-configuration of the FAP transmit power is not enabled.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUarFCNDLToProtect() {
+		return uarFCNDLToProtect == null ? Collections.emptyList() : uarFCNDLToProtect;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a DL UARFCNs to be protected from adjacent channel interference.  "Adjacent channel" in this context means offset from the FAP's UARFCN by 5MHz. {{bibref|3GPP-TS.25.104|Section 6.4.6}}
 
@@ -658,6 +717,7 @@ If {{empty}} then it indicates that there are no channels adjacent to the FAP th
 	 */
 	public void  setUarFCNDLToProtect(Collection<String> uarFCNDLToProtect) {
 		this.uarFCNDLToProtect = uarFCNDLToProtect;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -679,6 +739,7 @@ If {{empty}} then it indicates that there are no channels adjacent to the FAP th
 	 */
 	public RF withUarFCNDLToProtect(String string) {
 		getUarFCNDLToProtect().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -723,6 +784,47 @@ The order of the items has no significance.
 		return primaryScramblingCode;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a Primary DL Scrambling Code used by the FDD mode cell with a numeric range between 0 and 511 inclusive.
+
+{{bibref|3GPP-TS.25.433|Section 9.2.2.34}}
+
+Self-configuration for PSC is controlled by {{param|.Capabilities.UMTS.SelfConfig.PrimaryScramblingCodeConfig}} from an availability perspective and {{param|.FAPControl.UMTS.SelfConfig.PrimaryScramblingCodeSelfConfigEnable}} from an enabled perspective.
+
+If the FAP's self-configuration capability for {{param}} is available and enabled, this parameter MAY contain more than one item and the FAP is expected to select one from the list for {{param|PrimaryScramblingCodeInUse}}.
+
+If the self-configuration capability is not available or not enabled, then this parameter SHOULD contain only a single item.
+
+The multiplicity of the PSC values can also be expressed by defining a range using ".." (two periods) between two values. In this case, the combination of two values defines the lower-bound and upper-bound of the range inclusive.
+
+The following are examples of valid PSC string:
+
+:"20"
+
+::(explicitly specifies a single PSC value)
+
+:"20,30,40"
+
+::(specifies 3 possible PSC values to select from)
+
+"20..40"
+
+::(specifies 21 possible values between 20 and 40, inclusive)
+
+"20..40,50"
+
+::(specifies 22 possible values between 20 and 40 inclusive and a single value 50)
+
+The order of the items has no significance.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPrimaryScramblingCode() {
+		return primaryScramblingCode == null ? Collections.emptyList() : primaryScramblingCode;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a Primary DL Scrambling Code used by the FDD mode cell with a numeric range between 0 and 511 inclusive.
 
@@ -761,6 +863,7 @@ The order of the items has no significance.
 	 */
 	public void  setPrimaryScramblingCode(Collection<String> primaryScramblingCode) {
 		this.primaryScramblingCode = primaryScramblingCode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -802,6 +905,7 @@ The order of the items has no significance.
 	 */
 	public RF withPrimaryScramblingCode(String string) {
 		getPrimaryScramblingCode().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -835,6 +939,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setPrimaryScramblingCodeInUse(Long primaryScramblingCodeInUse) {
 		this.primaryScramblingCodeInUse = primaryScramblingCodeInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -852,6 +957,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RF withPrimaryScramblingCodeInUse(Long primaryScramblingCodeInUse) {
 		this.primaryScramblingCodeInUse = primaryScramblingCodeInUse;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -893,6 +999,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setMaxFAPTxPowerExpanded(String maxFAPTxPowerExpanded) {
 		this.maxFAPTxPowerExpanded = maxFAPTxPowerExpanded;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -914,6 +1021,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withMaxFAPTxPowerExpanded(String maxFAPTxPowerExpanded) {
 		this.maxFAPTxPowerExpanded = maxFAPTxPowerExpanded;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -951,6 +1059,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setMaxFAPTxPowerInUseExpanded(Integer maxFAPTxPowerInUseExpanded) {
 		this.maxFAPTxPowerInUseExpanded = maxFAPTxPowerInUseExpanded;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -970,6 +1079,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RF withMaxFAPTxPowerInUseExpanded(Integer maxFAPTxPowerInUseExpanded) {
 		this.maxFAPTxPowerInUseExpanded = maxFAPTxPowerInUseExpanded;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -1011,6 +1121,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public void  setMaxULTxPower(String maxULTxPower) {
 		this.maxULTxPower = maxULTxPower;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -1032,6 +1143,7 @@ Self-configuration for maximum transmission power is controlled by {{param|.Capa
 	 */
 	public RF withMaxULTxPower(String maxULTxPower) {
 		this.maxULTxPower = maxULTxPower;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -1065,6 +1177,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setMaxULTxPowerInUse(Integer maxULTxPowerInUse) {
 		this.maxULTxPowerInUse = maxULTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -1082,6 +1195,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RF withMaxULTxPowerInUse(Integer maxULTxPowerInUse) {
 		this.maxULTxPowerInUse = maxULTxPowerInUse;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -1123,6 +1237,7 @@ Self-configuration for transmission power is controlled by {{param|.Capabilities
 	 */
 	public void  setPcpICHPower(String pcpICHPower) {
 		this.pcpICHPower = pcpICHPower;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -1144,6 +1259,7 @@ Self-configuration for transmission power is controlled by {{param|.Capabilities
 	 */
 	public RF withPcpICHPower(String pcpICHPower) {
 		this.pcpICHPower = pcpICHPower;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -1181,6 +1297,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public void  setPcpICHPowerInUse(Integer pcpICHPowerInUse) {
 		this.pcpICHPowerInUse = pcpICHPowerInUse;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -1200,6 +1317,7 @@ If the self-configuration capability is not available or not enabled, then this
 	 */
 	public RF withPcpICHPowerInUse(Integer pcpICHPowerInUse) {
 		this.pcpICHPowerInUse = pcpICHPowerInUse;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -1229,6 +1347,7 @@ Actual values of the offset are 0.0 dB to 6.0 dB in steps of 0.25 dB. The value
 	 */
 	public void  setPowerOffsetPilotDPDCH(Long powerOffsetPilotDPDCH) {
 		this.powerOffsetPilotDPDCH = powerOffsetPilotDPDCH;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -1244,6 +1363,7 @@ Actual values of the offset are 0.0 dB to 6.0 dB in steps of 0.25 dB. The value
 	 */
 	public RF withPowerOffsetPilotDPDCH(Long powerOffsetPilotDPDCH) {
 		this.powerOffsetPilotDPDCH = powerOffsetPilotDPDCH;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -1273,6 +1393,7 @@ This value can be used by the FAP's self-configuration algorithms to help derive
 	 */
 	public void  setFapCoverageTarget(Long fapCoverageTarget) {
 		this.fapCoverageTarget = fapCoverageTarget;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -1288,6 +1409,7 @@ This value can be used by the FAP's self-configuration algorithms to help derive
 	 */
 	public RF withFapCoverageTarget(Long fapCoverageTarget) {
 		this.fapCoverageTarget = fapCoverageTarget;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -1313,6 +1435,7 @@ Actual values of the FAPQualityTargetEcIo are -20 dB to 0 dB in steps of 0.1 dB.
 	 */
 	public void  setFapQualityTargetEcIo(Integer fapQualityTargetEcIo) {
 		this.fapQualityTargetEcIo = fapQualityTargetEcIo;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -1326,6 +1449,7 @@ Actual values of the FAPQualityTargetEcIo are -20 dB to 0 dB in steps of 0.1 dB.
 	 */
 	public RF withFapQualityTargetEcIo(Integer fapQualityTargetEcIo) {
 		this.fapQualityTargetEcIo = fapQualityTargetEcIo;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -1355,6 +1479,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public void  setPscHPower(Integer pscHPower) {
 		this.pscHPower = pscHPower;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -1370,6 +1495,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public RF withPscHPower(Integer pscHPower) {
 		this.pscHPower = pscHPower;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -1399,6 +1525,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public void  setSscHPower(Integer sscHPower) {
 		this.sscHPower = sscHPower;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -1414,6 +1541,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public RF withSscHPower(Integer sscHPower) {
 		this.sscHPower = sscHPower;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -1439,6 +1567,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public void  setPicHPower(Integer picHPower) {
 		this.picHPower = picHPower;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -1452,6 +1581,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public RF withPicHPower(Integer picHPower) {
 		this.picHPower = picHPower;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -1481,6 +1611,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public void  setPchPower(Integer pchPower) {
 		this.pchPower = pchPower;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1496,6 +1627,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public RF withPchPower(Integer pchPower) {
 		this.pchPower = pchPower;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1525,6 +1657,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public void  setFacHPower(Integer facHPower) {
 		this.facHPower = facHPower;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1540,6 +1673,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public RF withFacHPower(Integer facHPower) {
 		this.facHPower = facHPower;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1569,6 +1703,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public void  setBchPower(Integer bchPower) {
 		this.bchPower = bchPower;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1584,6 +1719,7 @@ Actual values of the transmission power offset are -35.0 dB to 15.0 dB in steps
 	 */
 	public RF withBchPower(Integer bchPower) {
 		this.bchPower = bchPower;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1613,6 +1749,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public void  setAicHPower(Integer aicHPower) {
 		this.aicHPower = aicHPower;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1628,6 +1765,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public RF withAicHPower(Integer aicHPower) {
 		this.aicHPower = aicHPower;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1649,6 +1787,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public void  setCtcHAllocationPeriod(Long ctcHAllocationPeriod) {
 		this.ctcHAllocationPeriod = ctcHAllocationPeriod;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1660,6 +1799,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public RF withCtcHAllocationPeriod(Long ctcHAllocationPeriod) {
 		this.ctcHAllocationPeriod = ctcHAllocationPeriod;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1681,6 +1821,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public void  setCbsFrameOffset(Long cbsFrameOffset) {
 		this.cbsFrameOffset = cbsFrameOffset;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1692,6 +1833,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public RF withCbsFrameOffset(Long cbsFrameOffset) {
 		this.cbsFrameOffset = cbsFrameOffset;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1713,6 +1855,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public void  setMaxTTI(Long maxTTI) {
 		this.maxTTI = maxTTI;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1724,6 +1867,7 @@ Transmission power level of AICH, AP-AICH and CD/CA-ICH channels compared to CPI
 	 */
 	public RF withMaxTTI(Long maxTTI) {
 		this.maxTTI = maxTTI;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
@@ -1757,6 +1901,7 @@ Self-configuration for noise rise limit is controlled by {{param|.Capabilities.U
 	 */
 	public void  setNoiseRiseLimitLowerValue(Long noiseRiseLimitLowerValue) {
 		this.noiseRiseLimitLowerValue = noiseRiseLimitLowerValue;
+		if (this.dirty != null){ this.dirty.set(25);}
 	}
 
 	/**
@@ -1774,6 +1919,7 @@ Self-configuration for noise rise limit is controlled by {{param|.Capabilities.U
 	 */
 	public RF withNoiseRiseLimitLowerValue(Long noiseRiseLimitLowerValue) {
 		this.noiseRiseLimitLowerValue = noiseRiseLimitLowerValue;
+		if (this.dirty != null){ this.dirty.set(25);}
 		return this;
 	}
 
@@ -1807,6 +1953,7 @@ Self-configuration for noise rise limit is controlled by {{param|.Capabilities.U
 	 */
 	public void  setNoiseRiseLimitUpperValue(Long noiseRiseLimitUpperValue) {
 		this.noiseRiseLimitUpperValue = noiseRiseLimitUpperValue;
+		if (this.dirty != null){ this.dirty.set(26);}
 	}
 
 	/**
@@ -1824,6 +1971,7 @@ Self-configuration for noise rise limit is controlled by {{param|.Capabilities.U
 	 */
 	public RF withNoiseRiseLimitUpperValue(Long noiseRiseLimitUpperValue) {
 		this.noiseRiseLimitUpperValue = noiseRiseLimitUpperValue;
+		if (this.dirty != null){ this.dirty.set(26);}
 		return this;
 	}
 
@@ -1845,6 +1993,7 @@ Self-configuration for noise rise limit is controlled by {{param|.Capabilities.U
 	 */
 	public void  setNoiseRiseLimitInUse(Long noiseRiseLimitInUse) {
 		this.noiseRiseLimitInUse = noiseRiseLimitInUse;
+		if (this.dirty != null){ this.dirty.set(27);}
 	}
 
 	/**
@@ -1856,6 +2005,7 @@ Self-configuration for noise rise limit is controlled by {{param|.Capabilities.U
 	 */
 	public RF withNoiseRiseLimitInUse(Long noiseRiseLimitInUse) {
 		this.noiseRiseLimitInUse = noiseRiseLimitInUse;
+		if (this.dirty != null){ this.dirty.set(27);}
 		return this;
 	}
 
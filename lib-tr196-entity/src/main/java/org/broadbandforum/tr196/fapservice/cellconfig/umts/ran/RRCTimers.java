@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to miscellaneous RRC timers and constants.
@@ -311,6 +312,11 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.43}}.
 	@Size(min = 0, max = 15)
 	public Long waitTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RRCTimers() {
 	}
 
@@ -349,6 +355,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT300(Long t300) {
 		this.t300 = t300;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -368,6 +375,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT300(Long t300) {
 		this.t300 = t300;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -405,6 +413,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and section 10.3.3.44}}.
 	 */
 	public void  setT301(Long t301) {
 		this.t301 = t301;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -424,6 +433,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and section 10.3.3.44}}.
 	 */
 	public RRCTimers withT301(Long t301) {
 		this.t301 = t301;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -461,6 +471,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT302(Long t302) {
 		this.t302 = t302;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -480,6 +491,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT302(Long t302) {
 		this.t302 = t302;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -501,6 +513,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT304(Long t304) {
 		this.t304 = t304;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -512,6 +525,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT304(Long t304) {
 		this.t304 = t304;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -541,6 +555,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT305(Integer t305) {
 		this.t305 = t305;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -556,6 +571,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT305(Integer t305) {
 		this.t305 = t305;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -577,6 +593,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT307(Long t307) {
 		this.t307 = t307;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -588,6 +605,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT307(Long t307) {
 		this.t307 = t307;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -609,6 +627,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT308(Long t308) {
 		this.t308 = t308;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -620,6 +639,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT308(Long t308) {
 		this.t308 = t308;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -641,6 +661,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT309(Long t309) {
 		this.t309 = t309;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -652,6 +673,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT309(Long t309) {
 		this.t309 = t309;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -673,6 +695,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT310(Long t310) {
 		this.t310 = t310;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -684,6 +707,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT310(Long t310) {
 		this.t310 = t310;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -705,6 +729,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT311(Long t311) {
 		this.t311 = t311;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -716,6 +741,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT311(Long t311) {
 		this.t311 = t311;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -737,6 +763,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT312(Long t312) {
 		this.t312 = t312;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -748,6 +775,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT312(Long t312) {
 		this.t312 = t312;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -769,6 +797,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT313(Long t313) {
 		this.t313 = t313;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -780,6 +809,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT313(Long t313) {
 		this.t313 = t313;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -801,6 +831,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT314(Long t314) {
 		this.t314 = t314;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -812,6 +843,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT314(Long t314) {
 		this.t314 = t314;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -833,6 +865,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT315(Long t315) {
 		this.t315 = t315;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -844,6 +877,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT315(Long t315) {
 		this.t315 = t315;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -869,6 +903,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT316(Integer t316) {
 		this.t316 = t316;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -882,6 +917,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT316(Integer t316) {
 		this.t316 = t316;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -903,6 +939,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setT317(Long t317) {
 		this.t317 = t317;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -914,6 +951,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withT317(Long t317) {
 		this.t317 = t317;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -935,6 +973,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setN300(Long n300) {
 		this.n300 = n300;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -946,6 +985,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withN300(Long n300) {
 		this.n300 = n300;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -967,6 +1007,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setN301(Long n301) {
 		this.n301 = n301;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -978,6 +1019,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withN301(Long n301) {
 		this.n301 = n301;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -999,6 +1041,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setN302(Long n302) {
 		this.n302 = n302;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -1010,6 +1053,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withN302(Long n302) {
 		this.n302 = n302;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -1031,6 +1075,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setN304(Long n304) {
 		this.n304 = n304;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -1042,6 +1087,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withN304(Long n304) {
 		this.n304 = n304;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -1063,6 +1109,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setN310(Long n310) {
 		this.n310 = n310;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -1074,6 +1121,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withN310(Long n310) {
 		this.n310 = n310;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -1111,6 +1159,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setN312(Long n312) {
 		this.n312 = n312;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -1130,6 +1179,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withN312(Long n312) {
 		this.n312 = n312;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -1151,6 +1201,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public void  setN313(Long n313) {
 		this.n313 = n313;
+		if (this.dirty != null){ this.dirty.set(22);}
 	}
 
 	/**
@@ -1162,6 +1213,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.44}}.
 	 */
 	public RRCTimers withN313(Long n313) {
 		this.n313 = n313;
+		if (this.dirty != null){ this.dirty.set(22);}
 		return this;
 	}
 
@@ -1199,6 +1251,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.43}}.
 	 */
 	public void  setN315(Long n315) {
 		this.n315 = n315;
+		if (this.dirty != null){ this.dirty.set(23);}
 	}
 
 	/**
@@ -1218,6 +1271,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.43}}.
 	 */
 	public RRCTimers withN315(Long n315) {
 		this.n315 = n315;
+		if (this.dirty != null){ this.dirty.set(23);}
 		return this;
 	}
 
@@ -1247,6 +1301,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.43}}.
 	 */
 	public void  setWaitTime(Long waitTime) {
 		this.waitTime = waitTime;
+		if (this.dirty != null){ this.dirty.set(24);}
 	}
 
 	/**
@@ -1262,6 +1317,7 @@ Defined in SIB1 {{bibref|3GPP-TS.25.331|Section 13.1 and Section 10.3.3.43}}.
 	 */
 	public RRCTimers withWaitTime(Long waitTime) {
 		this.waitTime = waitTime;
+		if (this.dirty != null){ this.dirty.set(24);}
 		return this;
 	}
 
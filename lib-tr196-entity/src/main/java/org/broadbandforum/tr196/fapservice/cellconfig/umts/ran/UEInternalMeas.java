@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the UE internal measurement control parameters.
@@ -95,6 +96,11 @@ Only the specified values are considered valid, any value other than those and t
 	@Size(min = 5000, max = 5000)
 	public Long timeToTriggerEvent6b;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UEInternalMeas() {
 	}
 
@@ -121,6 +127,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -134,6 +141,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public UEInternalMeas withFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -159,6 +167,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setUetxPwrThresholdEvent6a(Integer uetxPwrThresholdEvent6a) {
 		this.uetxPwrThresholdEvent6a = uetxPwrThresholdEvent6a;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -172,6 +181,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public UEInternalMeas withUetxPwrThresholdEvent6a(Integer uetxPwrThresholdEvent6a) {
 		this.uetxPwrThresholdEvent6a = uetxPwrThresholdEvent6a;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -201,6 +211,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent6a(Long timeToTriggerEvent6a) {
 		this.timeToTriggerEvent6a = timeToTriggerEvent6a;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -216,6 +227,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public UEInternalMeas withTimeToTriggerEvent6a(Long timeToTriggerEvent6a) {
 		this.timeToTriggerEvent6a = timeToTriggerEvent6a;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -241,6 +253,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setUetxPwrThresholdEvent6b(Integer uetxPwrThresholdEvent6b) {
 		this.uetxPwrThresholdEvent6b = uetxPwrThresholdEvent6b;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -254,6 +267,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public UEInternalMeas withUetxPwrThresholdEvent6b(Integer uetxPwrThresholdEvent6b) {
 		this.uetxPwrThresholdEvent6b = uetxPwrThresholdEvent6b;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -283,6 +297,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTriggerEvent6b(Long timeToTriggerEvent6b) {
 		this.timeToTriggerEvent6b = timeToTriggerEvent6b;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -298,6 +313,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public UEInternalMeas withTimeToTriggerEvent6b(Long timeToTriggerEvent6b) {
 		this.timeToTriggerEvent6b = timeToTriggerEvent6b;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
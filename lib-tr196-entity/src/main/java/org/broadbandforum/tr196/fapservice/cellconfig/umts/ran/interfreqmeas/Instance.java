@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing parameters relating to a particular instance of inter-freq events.
@@ -176,6 +178,16 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	@Size(min = -120, max = 0)
 	public Integer thresholdNonUsedFrequency;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Instance() {
 	}
 
@@ -198,6 +210,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -209,6 +222,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public Instance withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -230,6 +244,8 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -241,6 +257,8 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public Instance withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -274,6 +292,8 @@ This attribute is readable, as it is highly dependent on how the FAP makes use o
 	 */
 	public void  setIntraFrequencyEventIdentity(String intraFrequencyEventIdentity) {
 		this.intraFrequencyEventIdentity = intraFrequencyEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -291,6 +311,8 @@ This attribute is readable, as it is highly dependent on how the FAP makes use o
 	 */
 	public Instance withIntraFrequencyEventIdentity(String intraFrequencyEventIdentity) {
 		this.intraFrequencyEventIdentity = intraFrequencyEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -316,6 +338,7 @@ E.g. "detecting cell edge to prepare for hand-out", "cancel hand-out preparation
 	 */
 	public void  setEventDescription(String eventDescription) {
 		this.eventDescription = eventDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -329,6 +352,7 @@ E.g. "detecting cell edge to prepare for hand-out", "cancel hand-out preparation
 	 */
 	public Instance withEventDescription(String eventDescription) {
 		this.eventDescription = eventDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -362,6 +386,7 @@ Enumeration of:
 	 */
 	public void  setMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -379,6 +404,7 @@ Enumeration of:
 	 */
 	public Instance withMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -404,6 +430,7 @@ Enumeration of:
 	 */
 	public void  setFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -417,6 +444,7 @@ Enumeration of:
 	 */
 	public Instance withFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -446,6 +474,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -461,6 +490,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public Instance withWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -490,6 +520,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public void  setHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -505,6 +536,7 @@ Actual values of the range are 0.0 to 14.5 in steps of 0.5. The value of {{param
 	 */
 	public Instance withHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -534,6 +566,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -549,6 +582,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public Instance withTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -586,6 +620,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdUsedFrequency(Integer thresholdUsedFrequency) {
 		this.thresholdUsedFrequency = thresholdUsedFrequency;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -605,6 +640,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public Instance withThresholdUsedFrequency(Integer thresholdUsedFrequency) {
 		this.thresholdUsedFrequency = thresholdUsedFrequency;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -642,6 +678,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdNonUsedFrequency(Integer thresholdNonUsedFrequency) {
 		this.thresholdNonUsedFrequency = thresholdNonUsedFrequency;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -661,6 +698,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public Instance withThresholdNonUsedFrequency(Integer thresholdNonUsedFrequency) {
 		this.thresholdNonUsedFrequency = thresholdNonUsedFrequency;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing parameters relating to a particular instance of inter-freq events.
@@ -162,6 +164,16 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	@Size(min = -115, max = 0)
 	public Integer thresholdOtherSystem;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Instance() {
 	}
 
@@ -184,6 +196,7 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -195,6 +208,7 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public Instance withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -216,6 +230,8 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -227,6 +243,8 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public Instance withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -260,6 +278,8 @@ This attribute is readable, as it is highly dependent on how the FAP makes use o
 	 */
 	public void  setInterRATEventIdentity(String interRATEventIdentity) {
 		this.interRATEventIdentity = interRATEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -277,6 +297,8 @@ This attribute is readable, as it is highly dependent on how the FAP makes use o
 	 */
 	public Instance withInterRATEventIdentity(String interRATEventIdentity) {
 		this.interRATEventIdentity = interRATEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -302,6 +324,7 @@ E.g. "hand-out to GSM macrocell", "cancel hand-out preparation due to decreasing
 	 */
 	public void  setEventDescription(String eventDescription) {
 		this.eventDescription = eventDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -315,6 +338,7 @@ E.g. "hand-out to GSM macrocell", "cancel hand-out preparation due to decreasing
 	 */
 	public Instance withEventDescription(String eventDescription) {
 		this.eventDescription = eventDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -340,6 +364,7 @@ E.g. "hand-out to GSM macrocell", "cancel hand-out preparation due to decreasing
 	 */
 	public void  setFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -353,6 +378,7 @@ E.g. "hand-out to GSM macrocell", "cancel hand-out preparation due to decreasing
 	 */
 	public Instance withFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -382,6 +408,7 @@ Indicates whether the BSIC verification is required or not for inter-RAT HO meas
 	 */
 	public void  setBsiCVerificationRequired(Boolean bsiCVerificationRequired) {
 		this.bsiCVerificationRequired = bsiCVerificationRequired;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -397,6 +424,7 @@ Indicates whether the BSIC verification is required or not for inter-RAT HO meas
 	 */
 	public Instance withBsiCVerificationRequired(Boolean bsiCVerificationRequired) {
 		this.bsiCVerificationRequired = bsiCVerificationRequired;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -426,6 +454,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -441,6 +470,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public Instance withWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -470,6 +500,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -485,6 +516,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public Instance withHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -514,6 +546,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -529,6 +562,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public Instance withTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -554,6 +588,7 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public void  setThresholdOwnSystem(Integer thresholdOwnSystem) {
 		this.thresholdOwnSystem = thresholdOwnSystem;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -567,6 +602,7 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public Instance withThresholdOwnSystem(Integer thresholdOwnSystem) {
 		this.thresholdOwnSystem = thresholdOwnSystem;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -592,6 +628,7 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public void  setThresholdOtherSystem(Integer thresholdOtherSystem) {
 		this.thresholdOtherSystem = thresholdOtherSystem;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -605,6 +642,7 @@ Defines the reporting threshold for inter-RAT HO measurement when the UE is in C
 	 */
 	public Instance withThresholdOtherSystem(Integer thresholdOtherSystem) {
 		this.thresholdOtherSystem = thresholdOtherSystem;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
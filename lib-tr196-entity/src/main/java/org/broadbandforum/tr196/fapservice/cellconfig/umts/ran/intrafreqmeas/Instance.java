@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.intrafreqmeas;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing parameters relating to a particular instance of intra-freq events.
@@ -248,6 +251,16 @@ Defines the minimum number of cells allowed in the "active cell set" for Event 1
 	@Size(min = 0, max = 7)
 	public Long replacementActivationThreshold;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Instance() {
 	}
 
@@ -270,6 +283,7 @@ Defines the minimum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -281,6 +295,7 @@ Defines the minimum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public Instance withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -302,6 +317,8 @@ Defines the minimum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -313,6 +330,8 @@ Defines the minimum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public Instance withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -346,6 +365,8 @@ This attribute is readable, as it is highly dependent on how the FAP makes use o
 	 */
 	public void  setIntraFrequencyEventIdentity(String intraFrequencyEventIdentity) {
 		this.intraFrequencyEventIdentity = intraFrequencyEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -363,6 +384,8 @@ This attribute is readable, as it is highly dependent on how the FAP makes use o
 	 */
 	public Instance withIntraFrequencyEventIdentity(String intraFrequencyEventIdentity) {
 		this.intraFrequencyEventIdentity = intraFrequencyEventIdentity;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -388,6 +411,7 @@ E.g. "hand-out to macro cells", "addition of enterprise HNB cell to Active Set".
 	 */
 	public void  setEventDescription(String eventDescription) {
 		this.eventDescription = eventDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -401,6 +425,7 @@ E.g. "hand-out to macro cells", "addition of enterprise HNB cell to Active Set".
 	 */
 	public Instance withEventDescription(String eventDescription) {
 		this.eventDescription = eventDescription;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -434,6 +459,7 @@ Enumeration of:
 	 */
 	public void  setMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -451,6 +477,7 @@ Enumeration of:
 	 */
 	public Instance withMeasurementQuantity(String measurementQuantity) {
 		this.measurementQuantity = measurementQuantity;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -476,6 +503,7 @@ Enumeration of:
 	 */
 	public void  setFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -489,6 +517,7 @@ Enumeration of:
 	 */
 	public Instance withFilterCoefficient(Long filterCoefficient) {
 		this.filterCoefficient = filterCoefficient;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -507,6 +536,21 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 		return triggeringCondition;
 	}
 
+	/**
+	 * Read the {{list}} Indicates which cells can trigger the event instance. 
+
+Enumerated value must be one of [Active, Monitored, Active and Monitored, Detected, Detected and Monitored]
+
+{{bibref|3GPP-TS.25.331|Section 14.1.2 and Section 10.3.7.39}}
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTriggeringCondition() {
+		return triggeringCondition == null ? Collections.emptyList() : triggeringCondition;
+	}
+
 	/**
 	 * Set the {{list}} Indicates which cells can trigger the event instance. 
 
@@ -519,6 +563,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 	 */
 	public void  setTriggeringCondition(Collection<String> triggeringCondition) {
 		this.triggeringCondition = triggeringCondition;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -534,6 +579,7 @@ Enumerated value must be one of [Active, Monitored, Active and Monitored, Detect
 	 */
 	public Instance withTriggeringCondition(String string) {
 		getTriggeringCondition().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -567,6 +613,7 @@ Actual values of the range are 0.0 to 14.5 dB in steps of 0.5 dB. The value of {
 	 */
 	public void  setReportingRange(Long reportingRange) {
 		this.reportingRange = reportingRange;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -584,6 +631,7 @@ Actual values of the range are 0.0 to 14.5 dB in steps of 0.5 dB. The value of {
 	 */
 	public Instance withReportingRange(Long reportingRange) {
 		this.reportingRange = reportingRange;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -617,6 +665,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public void  setWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -634,6 +683,7 @@ Actual values of the weighting factor are 0.0 to 2.0 in steps of 0.1. The value
 	 */
 	public Instance withWeightingFactor(Long weightingFactor) {
 		this.weightingFactor = weightingFactor;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -663,6 +713,7 @@ Defines the maximum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public void  setReportDeactivationThreshold(Long reportDeactivationThreshold) {
 		this.reportDeactivationThreshold = reportDeactivationThreshold;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -678,6 +729,7 @@ Defines the maximum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public Instance withReportDeactivationThreshold(Long reportDeactivationThreshold) {
 		this.reportDeactivationThreshold = reportDeactivationThreshold;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -711,6 +763,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public void  setReportingAmount(Integer reportingAmount) {
 		this.reportingAmount = reportingAmount;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -728,6 +781,7 @@ The value -1 is used to represent an unbounded maximum.
 	 */
 	public Instance withReportingAmount(Integer reportingAmount) {
 		this.reportingAmount = reportingAmount;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -757,6 +811,7 @@ Defines the transmission period in milliseconds of MEASUREMENT REPORT messages s
 	 */
 	public void  setReportingInterval(Long reportingInterval) {
 		this.reportingInterval = reportingInterval;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -772,6 +827,7 @@ Defines the transmission period in milliseconds of MEASUREMENT REPORT messages s
 	 */
 	public Instance withReportingInterval(Long reportingInterval) {
 		this.reportingInterval = reportingInterval;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -801,6 +857,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public void  setHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -816,6 +873,7 @@ Actual values of the range are 0.0 to 7.5 in steps of 0.5. The value of {{param}
 	 */
 	public Instance withHysteresis(Long hysteresis) {
 		this.hysteresis = hysteresis;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -845,6 +903,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public void  setTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -860,6 +919,7 @@ Only the specified values are considered valid, any value other than those and t
 	 */
 	public Instance withTimeToTrigger(Long timeToTrigger) {
 		this.timeToTrigger = timeToTrigger;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -901,6 +961,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public void  setThresholdUsedFrequency(Integer thresholdUsedFrequency) {
 		this.thresholdUsedFrequency = thresholdUsedFrequency;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -922,6 +983,7 @@ Each valid value of {{param|MeasurementQuantity}} has a different valid range.
 	 */
 	public Instance withThresholdUsedFrequency(Integer thresholdUsedFrequency) {
 		this.thresholdUsedFrequency = thresholdUsedFrequency;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -951,6 +1013,7 @@ Defines the minimum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public void  setReplacementActivationThreshold(Long replacementActivationThreshold) {
 		this.replacementActivationThreshold = replacementActivationThreshold;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -966,6 +1029,7 @@ Defines the minimum number of cells allowed in the "active cell set" for Event 1
 	 */
 	public Instance withReplacementActivationThreshold(Long replacementActivationThreshold) {
 		this.replacementActivationThreshold = replacementActivationThreshold;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-frequency cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
@@ -177,6 +179,16 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	@Size(min = -100, max = 500)
 	public Integer pcpICHTxPower;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterFreqCell() {
 	}
 
@@ -199,6 +211,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -210,6 +223,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public InterFreqCell withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -231,6 +245,8 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -242,6 +258,8 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public InterFreqCell withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -263,6 +281,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -274,6 +293,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public InterFreqCell withMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -307,6 +327,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -324,6 +345,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public InterFreqCell withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -357,6 +379,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -374,6 +397,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public InterFreqCell withRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -395,6 +419,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -406,6 +431,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public InterFreqCell withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -431,6 +457,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -444,6 +471,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public InterFreqCell withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -469,6 +497,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -482,6 +511,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public InterFreqCell withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -511,6 +541,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -526,6 +557,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -547,6 +579,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -558,6 +591,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -579,6 +613,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -590,6 +626,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(10);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -611,6 +649,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -622,6 +662,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(11);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -651,6 +693,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -666,6 +709,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public InterFreqCell withPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
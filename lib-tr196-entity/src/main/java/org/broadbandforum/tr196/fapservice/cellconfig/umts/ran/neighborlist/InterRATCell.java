@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlist;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlist.interratcell.GSM;
 
 	/**
@@ -53,6 +55,11 @@ public class InterRATCell {
 	@CWMPParameter(access = "readWrite")
 	public Collection<GSM> gsms;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterRATCell() {
 	}
 
@@ -75,6 +82,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -86,6 +94,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -95,10 +104,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<GSM> getGsms() {
-		if (this.gsms == null){ this.gsms=new ArrayList<>();}
+		if (!(this.gsms instanceof InstanceTable)){ this.gsms=InstanceTable.of(this.gsms);}
 		return gsms;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for GSM provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<GSM> viewGsms() {
+		return gsms == null ? Collections.emptyList() : gsms;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for GSM provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
 	 *
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the intra-frequency cell list provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
@@ -206,6 +208,16 @@ divided by 10 yields the actual value of the power.
 	@Size(min = -400, max = 500)
 	public Integer maxDPCHtxPower;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IntraFreqCell() {
 	}
 
@@ -228,6 +240,7 @@ divided by 10 yields the actual value of the power.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -239,6 +252,7 @@ divided by 10 yields the actual value of the power.
 	 */
 	public IntraFreqCell withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -260,6 +274,8 @@ divided by 10 yields the actual value of the power.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -271,6 +287,8 @@ divided by 10 yields the actual value of the power.
 	 */
 	public IntraFreqCell withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -292,6 +310,7 @@ divided by 10 yields the actual value of the power.
 	 */
 	public void  setMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -303,6 +322,7 @@ divided by 10 yields the actual value of the power.
 	 */
 	public IntraFreqCell withMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -336,6 +356,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -353,6 +374,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public IntraFreqCell withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -386,6 +408,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -403,6 +426,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public IntraFreqCell withRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -424,6 +448,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -435,6 +460,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public IntraFreqCell withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -460,6 +486,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -473,6 +500,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public IntraFreqCell withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -498,6 +526,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -511,6 +540,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public IntraFreqCell withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -540,6 +570,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -555,6 +586,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public IntraFreqCell withUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -576,6 +608,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -587,6 +621,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public IntraFreqCell withPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -616,6 +652,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public void  setPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -631,6 +668,7 @@ Actual values of the power are -10.0 dBm to 50.0 dBm in steps of 0.1 dB. The val
 	 */
 	public IntraFreqCell withPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -656,6 +694,7 @@ Cell Identity. {{bibref|3GPP-TS.25.331|Section 10.3.2.2}}
 	 */
 	public void  setCollocatedInterFreqCell(Long collocatedInterFreqCell) {
 		this.collocatedInterFreqCell = collocatedInterFreqCell;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -669,6 +708,7 @@ Cell Identity. {{bibref|3GPP-TS.25.331|Section 10.3.2.2}}
 	 */
 	public IntraFreqCell withCollocatedInterFreqCell(Long collocatedInterFreqCell) {
 		this.collocatedInterFreqCell = collocatedInterFreqCell;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -702,6 +742,7 @@ C.f {{bibref|3GPP-TS.32.642|Section 6.3.11}} {{bibref|3GPP-TS.25.104|Section 6.2
 	 */
 	public void  setMaxTxPower(Integer maxTxPower) {
 		this.maxTxPower = maxTxPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -719,6 +760,7 @@ C.f {{bibref|3GPP-TS.32.642|Section 6.3.11}} {{bibref|3GPP-TS.25.104|Section 6.2
 	 */
 	public IntraFreqCell withMaxTxPower(Integer maxTxPower) {
 		this.maxTxPower = maxTxPower;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -764,6 +806,7 @@ divided by 10 yields the actual value of the power.
 	 */
 	public void  setMaxDPCHtxPower(Integer maxDPCHtxPower) {
 		this.maxDPCHtxPower = maxDPCHtxPower;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -787,6 +830,7 @@ divided by 10 yields the actual value of the power.
 	 */
 	public IntraFreqCell withMaxDPCHtxPower(Integer maxDPCHtxPower) {
 		this.maxDPCHtxPower = maxDPCHtxPower;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
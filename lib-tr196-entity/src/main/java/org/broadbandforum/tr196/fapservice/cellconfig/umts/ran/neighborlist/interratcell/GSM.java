@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-RAT cell list for GSM provided by the ACS. The table contents MAY be added/deleted/modified during operation, in which case these changes shall be reflected in the broadcast information as soon as possible.
@@ -132,6 +134,16 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	@Size(min = 0, max = 1023)
 	public Long bccHARFCN;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public GSM() {
 	}
 
@@ -154,6 +166,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +178,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -186,6 +200,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -197,6 +213,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -218,6 +236,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +248,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withMustInclude(Boolean mustInclude) {
 		this.mustInclude = mustInclude;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -262,6 +282,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -279,6 +300,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public GSM withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -304,6 +326,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -317,6 +340,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public GSM withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -354,6 +378,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -373,6 +398,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -394,6 +420,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -405,6 +432,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -426,6 +454,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -437,6 +466,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -458,6 +488,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -469,6 +501,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
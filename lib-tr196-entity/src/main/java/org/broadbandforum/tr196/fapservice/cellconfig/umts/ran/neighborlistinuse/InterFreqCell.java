@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-frequency cell list.
@@ -134,6 +136,16 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	@Size(min = 0, max = 511)
 	public Long pcpICHScramblingCode;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public InterFreqCell() {
 	}
 
@@ -168,6 +180,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -185,6 +198,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public InterFreqCell withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -218,6 +232,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -235,6 +250,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public InterFreqCell withRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -268,6 +284,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -285,6 +302,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public InterFreqCell withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -310,6 +328,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -323,6 +342,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public InterFreqCell withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -348,6 +368,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -361,6 +382,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public InterFreqCell withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -390,6 +412,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -405,6 +428,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -426,6 +450,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -437,6 +462,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withUarFCNUL(Long uarFCNUL) {
 		this.uarFCNUL = uarFCNUL;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -458,6 +484,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -469,6 +497,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -490,6 +520,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -501,6 +533,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public InterFreqCell withPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlistinuse;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +24,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.neighborlistinuse.interratcell.GSM;
 
 	/**
@@ -51,6 +53,11 @@ public class InterRATCell {
 	@XmlElement(name = "GSM")
 	public Collection<GSM> gsms;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public InterRATCell() {
 	}
 
@@ -73,6 +80,7 @@ public class InterRATCell {
 	 */
 	public void  setMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -84,6 +92,7 @@ public class InterRATCell {
 	 */
 	public InterRATCell withMaxGSMEntries(Long maxGSMEntries) {
 		this.maxGSMEntries = maxGSMEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -93,10 +102,20 @@ public class InterRATCell {
 	 * @return the value
 	 */
 	public Collection<GSM> getGsms() {
-		if (this.gsms == null){ this.gsms=new ArrayList<>();}
+		if (!(this.gsms instanceof InstanceTable)){ this.gsms=InstanceTable.of(this.gsms);}
 		return gsms;
 	}
 
+	/**
+	 * Read the table containing the inter-RAT cell list for GSM.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<GSM> viewGsms() {
+		return gsms == null ? Collections.emptyList() : gsms;
+	}
+
 	/**
 	 * Set the table containing the inter-RAT cell list for GSM.
 	 *
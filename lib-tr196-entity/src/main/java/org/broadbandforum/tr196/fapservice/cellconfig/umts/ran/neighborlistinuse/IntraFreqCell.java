@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the intra-frequency cell list.
@@ -118,6 +120,16 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	@Size(min = 0, max = 511)
 	public Long pcpICHScramblingCode;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IntraFreqCell() {
 	}
 
@@ -152,6 +164,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -169,6 +182,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public IntraFreqCell withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -202,6 +216,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public void  setRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -219,6 +234,7 @@ The RNC-ID and Extended RNC-ID are combined into a single parameter here as ther
 	 */
 	public IntraFreqCell withRncID(Long rncID) {
 		this.rncID = rncID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -252,6 +268,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public void  setCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -269,6 +286,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public IntraFreqCell withCid(Long cid) {
 		this.cid = cid;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -294,6 +312,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -307,6 +326,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public IntraFreqCell withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -332,6 +352,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -345,6 +366,7 @@ Used in {{bibref|3GPP-TS.25.413|Section 9.2.1.28}} as part of Target Cell ID.
 	 */
 	public IntraFreqCell withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -374,6 +396,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -389,6 +412,7 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public IntraFreqCell withUra(Long ura) {
 		this.ura = ura;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -410,6 +434,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public void  setPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -421,6 +447,8 @@ Indicates to the UE which {{param}} it shall use in case of overlapping URAs.
 	 */
 	public IntraFreqCell withPcpICHScramblingCode(Long pcpICHScramblingCode) {
 		this.pcpICHScramblingCode = pcpICHScramblingCode;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the inter-RAT cell list for GSM.
@@ -99,6 +101,16 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	@Size(min = 0, max = 1023)
 	public Long bccHARFCN;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public GSM() {
 	}
 
@@ -133,6 +145,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -150,6 +163,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public GSM withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -175,6 +189,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -188,6 +203,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public GSM withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -225,6 +241,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -244,6 +261,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -265,6 +283,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -276,6 +295,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -297,6 +317,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -308,6 +329,7 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -329,6 +351,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public void  setBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -340,6 +364,8 @@ For example, if NCC is 7 and BCC is 2 you would have 00111010 (binary) or 0x3A (
 	 */
 	public GSM withBccHARFCN(Long bccHARFCN) {
 		this.bccHARFCN = bccHARFCN;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
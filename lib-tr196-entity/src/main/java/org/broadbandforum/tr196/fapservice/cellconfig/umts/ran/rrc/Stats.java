@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.cellconfig.umts.ran.rrc;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +26,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object provides the RRC statistics as defined in {{bibref|3GPP-TS.32.452}}.
@@ -71,6 +73,11 @@ public class Stats {
 	@XmlList
 	public Collection<String> succConnEstab;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Stats() {
 	}
 
@@ -88,6 +95,19 @@ public class Stats {
 		return attConnEstab;
 	}
 
+	/**
+	 * Read the this measurement provides the number of RRC connection establishment attempts by cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the cause name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewAttConnEstab() {
+		return attConnEstab == null ? Collections.emptyList() : attConnEstab;
+	}
+
 	/**
 	 * Set the this measurement provides the number of RRC connection establishment attempts by cause.
 
@@ -98,6 +118,7 @@ public class Stats {
 	 */
 	public void  setAttConnEstab(Collection<String> attConnEstab) {
 		this.attConnEstab = attConnEstab;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -111,6 +132,7 @@ public class Stats {
 	 */
 	public Stats withAttConnEstab(String string) {
 		getAttConnEstab().add(string);
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -127,6 +149,19 @@ public class Stats {
 		return failConnEstab;
 	}
 
+	/**
+	 * Read the this measurement provides the number of RRC establishment failures by cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the cause name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewFailConnEstab() {
+		return failConnEstab == null ? Collections.emptyList() : failConnEstab;
+	}
+
 	/**
 	 * Set the this measurement provides the number of RRC establishment failures by cause.
 
@@ -137,6 +172,7 @@ public class Stats {
 	 */
 	public void  setFailConnEstab(Collection<String> failConnEstab) {
 		this.failConnEstab = failConnEstab;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -150,6 +186,7 @@ public class Stats {
 	 */
 	public Stats withFailConnEstab(String string) {
 		getFailConnEstab().add(string);
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -166,6 +203,19 @@ public class Stats {
 		return succConnEstab;
 	}
 
+	/**
+	 * Read the this measurement provides the number of successful RRC establishments by cause.
+
+{{list| where each item is defined as the "cause name=measurement value"}} The total of all the measurements is provided using the cause name= "sum".
+	 *
+	 * @since 2.1
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSuccConnEstab() {
+		return succConnEstab == null ? Collections.emptyList() : succConnEstab;
+	}
+
 	/**
 	 * Set the this measurement provides the number of successful RRC establishments by cause.
 
@@ -176,6 +226,7 @@ public class Stats {
 	 */
 	public void  setSuccConnEstab(Collection<String> succConnEstab) {
 		this.succConnEstab = succConnEstab;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -189,6 +240,7 @@ public class Stats {
 	 */
 	public Stats withSuccConnEstab(String string) {
 		getSuccConnEstab().add(string);
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.Gateway;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.HRPD;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.OneX;
@@ -98,6 +99,11 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	@XmlElement(name = "HRPD")
 	public HRPD hrpD;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDMA2000() {
 	}
 
@@ -136,6 +142,7 @@ If the FAP is unable to connect to any security gateway indicated by the value o
 	 */
 	public void  setHomeDomain(String homeDomain) {
 		this.homeDomain = homeDomain;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -155,6 +162,7 @@ If the FAP is unable to connect to any security gateway indicated by the value o
 	 */
 	public CDMA2000 withHomeDomain(String homeDomain) {
 		this.homeDomain = homeDomain;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -176,6 +184,7 @@ If the FAP is unable to connect to any security gateway indicated by the value o
 	 */
 	public void  setRemoteIPAccessEnable(Boolean remoteIPAccessEnable) {
 		this.remoteIPAccessEnable = remoteIPAccessEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -187,6 +196,7 @@ If the FAP is unable to connect to any security gateway indicated by the value o
 	 */
 	public CDMA2000 withRemoteIPAccessEnable(Boolean remoteIPAccessEnable) {
 		this.remoteIPAccessEnable = remoteIPAccessEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -216,6 +226,7 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	 */
 	public void  setPmconfig(String pmconfig) {
 		this.pmconfig = pmconfig;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -231,6 +242,7 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	 */
 	public CDMA2000 withPmconfig(String pmconfig) {
 		this.pmconfig = pmconfig;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.fapcontrol.lte.Gateway;
 
 	/**
@@ -107,6 +108,11 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	@XmlElement(name = "Gateway")
 	public Gateway gateway;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LTE() {
 	}
 
@@ -137,6 +143,7 @@ If {{false}} the LTE FAP is currently disabled.
 	 */
 	public void  setOpstate(Boolean opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -152,6 +159,7 @@ If {{false}} the LTE FAP is currently disabled.
 	 */
 	public LTE withOpstate(Boolean opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -201,6 +209,7 @@ The default value after power-on is {{false}}.
 	 */
 	public void  setAdminState(Boolean adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -226,6 +235,7 @@ The default value after power-on is {{false}}.
 	 */
 	public LTE withAdminState(Boolean adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -267,6 +277,7 @@ This state is tied to the Administrative state which is controlled by the ACS.
 	 */
 	public void  setRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -288,6 +299,7 @@ This state is tied to the Administrative state which is controlled by the ACS.
 	 */
 	public LTE withRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -317,6 +329,7 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	 */
 	public void  setPmconfig(String pmconfig) {
 		this.pmconfig = pmconfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -332,6 +345,7 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	 */
 	public LTE withPmconfig(String pmconfig) {
 		this.pmconfig = pmconfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.fapcontrol.umts.Gateway;
 import org.broadbandforum.tr196.fapservice.fapcontrol.umts.SelfConfig;
 
@@ -113,6 +114,11 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	@XmlElement(name = "Gateway")
 	public Gateway gateway;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public UMTS() {
 	}
 
@@ -143,6 +149,7 @@ If {{false}} the UMTS FAP is currently disabled.
 	 */
 	public void  setOpstate(Boolean opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -158,6 +165,7 @@ If {{false}} the UMTS FAP is currently disabled.
 	 */
 	public UMTS withOpstate(Boolean opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -207,6 +215,7 @@ The default value after power-on is {{false}}.
 	 */
 	public void  setAdminState(Boolean adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -232,6 +241,7 @@ The default value after power-on is {{false}}.
 	 */
 	public UMTS withAdminState(Boolean adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -273,6 +283,7 @@ This state is tied to the Administrative state which is controlled by the ACS.
 	 */
 	public void  setRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -294,6 +305,7 @@ This state is tied to the Administrative state which is controlled by the ACS.
 	 */
 	public UMTS withRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -323,6 +335,7 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	 */
 	public void  setPmconfig(String pmconfig) {
 		this.pmconfig = pmconfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -338,6 +351,7 @@ If the referenced object is deleted, the parameter value MUST be set to an empty
 	 */
 	public UMTS withPmconfig(String pmconfig) {
 		this.pmconfig = pmconfig;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
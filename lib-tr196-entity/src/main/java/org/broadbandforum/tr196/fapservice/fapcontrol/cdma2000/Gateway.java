@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * CDMA2000 FAP Security Gateway operational parameters.
@@ -70,6 +71,11 @@ public class Gateway {
 	@XmlElement(name = "SecGWSwitchoverCount")
 	public Long secGWSwitchoverCount;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Gateway() {
 	}
 
@@ -92,6 +98,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer1(String secGWServer1) {
 		this.secGWServer1 = secGWServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -103,6 +110,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer1(String secGWServer1) {
 		this.secGWServer1 = secGWServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -124,6 +132,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer2(String secGWServer2) {
 		this.secGWServer2 = secGWServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -135,6 +144,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer2(String secGWServer2) {
 		this.secGWServer2 = secGWServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -156,6 +166,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer3(String secGWServer3) {
 		this.secGWServer3 = secGWServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -167,6 +178,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer3(String secGWServer3) {
 		this.secGWServer3 = secGWServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -188,6 +200,7 @@ public class Gateway {
 	 */
 	public void  setSecGWSwitchoverCount(Long secGWSwitchoverCount) {
 		this.secGWSwitchoverCount = secGWSwitchoverCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -199,6 +212,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWSwitchoverCount(Long secGWSwitchoverCount) {
 		this.secGWSwitchoverCount = secGWSwitchoverCount;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
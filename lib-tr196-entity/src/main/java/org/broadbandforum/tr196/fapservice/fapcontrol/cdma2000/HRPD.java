@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.hrpd.A13;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.hrpd.SelfConfig;
 
@@ -87,6 +88,11 @@ public class HRPD {
 	@XmlElement(name = "A13")
 	public A13 a13;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HRPD() {
 	}
 
@@ -109,6 +115,7 @@ public class HRPD {
 	 */
 	public void  setOpstate(Boolean opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -120,6 +127,7 @@ public class HRPD {
 	 */
 	public HRPD withOpstate(Boolean opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -141,6 +149,7 @@ public class HRPD {
 	 */
 	public void  setAdminState(Boolean adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -152,6 +161,7 @@ public class HRPD {
 	 */
 	public HRPD withAdminState(Boolean adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -173,6 +183,7 @@ public class HRPD {
 	 */
 	public void  setRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -184,6 +195,7 @@ public class HRPD {
 	 */
 	public HRPD withRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -205,6 +217,7 @@ public class HRPD {
 	 */
 	public void  setA13SessionTransferEnable(Boolean a13SessionTransferEnable) {
 		this.a13SessionTransferEnable = a13SessionTransferEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -216,6 +229,7 @@ public class HRPD {
 	 */
 	public HRPD withA13SessionTransferEnable(Boolean a13SessionTransferEnable) {
 		this.a13SessionTransferEnable = a13SessionTransferEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -237,6 +251,7 @@ public class HRPD {
 	 */
 	public void  setLocalIPAccessEnable(Boolean localIPAccessEnable) {
 		this.localIPAccessEnable = localIPAccessEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -248,6 +263,7 @@ public class HRPD {
 	 */
 	public HRPD withLocalIPAccessEnable(Boolean localIPAccessEnable) {
 		this.localIPAccessEnable = localIPAccessEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.onex.ActiveHandinMeasurement;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.onex.SelfConfig;
 
@@ -132,6 +133,11 @@ public class OneX {
 	@XmlElement(name = "SelfConfig")
 	public SelfConfig selfConfig;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public OneX() {
 	}
 
@@ -154,6 +160,7 @@ public class OneX {
 	 */
 	public void  setAdminState(String adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +172,7 @@ public class OneX {
 	 */
 	public OneX withAdminState(String adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -186,6 +194,7 @@ public class OneX {
 	 */
 	public void  setOpstate(String opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -197,6 +206,7 @@ public class OneX {
 	 */
 	public OneX withOpstate(String opstate) {
 		this.opstate = opstate;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -218,6 +228,7 @@ public class OneX {
 	 */
 	public void  setRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -229,6 +240,7 @@ public class OneX {
 	 */
 	public OneX withRftxStatus(Boolean rftxStatus) {
 		this.rftxStatus = rftxStatus;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -250,6 +262,7 @@ public class OneX {
 	 */
 	public void  setDaylight(Integer daylight) {
 		this.daylight = daylight;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -261,6 +274,7 @@ public class OneX {
 	 */
 	public OneX withDaylight(Integer daylight) {
 		this.daylight = daylight;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -282,6 +296,7 @@ public class OneX {
 	 */
 	public void  setMaxPRev(Integer maxPRev) {
 		this.maxPRev = maxPRev;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -293,6 +308,7 @@ public class OneX {
 	 */
 	public OneX withMaxPRev(Integer maxPRev) {
 		this.maxPRev = maxPRev;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -314,6 +330,7 @@ public class OneX {
 	 */
 	public void  setReregister(Long reregister) {
 		this.reregister = reregister;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -325,6 +342,7 @@ public class OneX {
 	 */
 	public OneX withReregister(Long reregister) {
 		this.reregister = reregister;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -346,6 +364,7 @@ public class OneX {
 	 */
 	public void  setEmergencySessionPeriod(Long emergencySessionPeriod) {
 		this.emergencySessionPeriod = emergencySessionPeriod;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -357,6 +376,7 @@ public class OneX {
 	 */
 	public OneX withEmergencySessionPeriod(Long emergencySessionPeriod) {
 		this.emergencySessionPeriod = emergencySessionPeriod;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -378,6 +398,7 @@ public class OneX {
 	 */
 	public void  setLocationAreaCode(Long locationAreaCode) {
 		this.locationAreaCode = locationAreaCode;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -389,6 +410,7 @@ public class OneX {
 	 */
 	public OneX withLocationAreaCode(Long locationAreaCode) {
 		this.locationAreaCode = locationAreaCode;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -410,6 +432,7 @@ public class OneX {
 	 */
 	public void  setMscId(Long mscId) {
 		this.mscId = mscId;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -421,6 +444,7 @@ public class OneX {
 	 */
 	public OneX withMscId(Long mscId) {
 		this.mscId = mscId;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -442,6 +466,7 @@ public class OneX {
 	 */
 	public void  setActiveHandinEnable(Boolean activeHandinEnable) {
 		this.activeHandinEnable = activeHandinEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -453,6 +478,7 @@ public class OneX {
 	 */
 	public OneX withActiveHandinEnable(Boolean activeHandinEnable) {
 		this.activeHandinEnable = activeHandinEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters related to time syncronization with CDMA2000 System Time (see {{bibref|3GPP2-C.S0005}}).
@@ -89,6 +90,11 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	@CWMPParameter(access = "readWrite")
 	public Boolean daylightSavingsUsed;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Time() {
 	}
 
@@ -111,6 +117,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public void  setLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +129,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public Time withLocalTimeZone(String localTimeZone) {
 		this.localTimeZone = localTimeZone;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -179,6 +187,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public void  setCurrentLocalTime(String currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -208,6 +217,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public Time withCurrentLocalTime(String currentLocalTime) {
 		this.currentLocalTime = currentLocalTime;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -229,6 +239,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public void  setLeapSeconds(Integer leapSeconds) {
 		this.leapSeconds = leapSeconds;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -240,6 +251,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public Time withLeapSeconds(Integer leapSeconds) {
 		this.leapSeconds = leapSeconds;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -261,6 +273,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public void  setDaylightSavingsUsed(Boolean daylightSavingsUsed) {
 		this.daylightSavingsUsed = daylightSavingsUsed;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -272,6 +285,7 @@ TZD  = time zone designator (Z or +hh:mm or -hh:mm)
 	 */
 	public Time withDaylightSavingsUsed(Boolean daylightSavingsUsed) {
 		this.daylightSavingsUsed = daylightSavingsUsed;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
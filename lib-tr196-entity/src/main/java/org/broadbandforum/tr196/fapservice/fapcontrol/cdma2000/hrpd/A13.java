@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.hrpd;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.hrpd.a13.ColorCodeToUATI104;
 import org.broadbandforum.tr196.fapservice.fapcontrol.cdma2000.hrpd.a13.HRPDSubnetToIP;
 
@@ -64,10 +65,20 @@ public class A13 {
 	 * @return the value
 	 */
 	public Collection<ColorCodeToUATI104> getColorCodeToUATI104s() {
-		if (this.colorCodeToUATI104s == null){ this.colorCodeToUATI104s=new ArrayList<>();}
+		if (!(this.colorCodeToUATI104s instanceof InstanceTable)){ this.colorCodeToUATI104s=InstanceTable.of(this.colorCodeToUATI104s);}
 		return colorCodeToUATI104s;
 	}
 
+	/**
+	 * Read the hrpD ColorCode to UATI Mapping Table number of entries.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ColorCodeToUATI104> viewColorCodeToUATI104s() {
+		return colorCodeToUATI104s == null ? Collections.emptyList() : colorCodeToUATI104s;
+	}
+
 	/**
 	 * Set the hrpD ColorCode to UATI Mapping Table number of entries.
 	 *
@@ -94,10 +105,20 @@ public class A13 {
 	 * @return the value
 	 */
 	public Collection<HRPDSubnetToIP> getHrpDSubnetToIPs() {
-		if (this.hrpDSubnetToIPs == null){ this.hrpDSubnetToIPs=new ArrayList<>();}
+		if (!(this.hrpDSubnetToIPs instanceof InstanceTable)){ this.hrpDSubnetToIPs=InstanceTable.of(this.hrpDSubnetToIPs);}
 		return hrpDSubnetToIPs;
 	}
 
+	/**
+	 * Read the this object contains attributes related to A13 Session Transfer
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<HRPDSubnetToIP> viewHrpDSubnetToIPs() {
+		return hrpDSubnetToIPs == null ? Collections.emptyList() : hrpDSubnetToIPs;
+	}
+
 	/**
 	 * Set the this object contains attributes related to A13 Session Transfer
 	 *
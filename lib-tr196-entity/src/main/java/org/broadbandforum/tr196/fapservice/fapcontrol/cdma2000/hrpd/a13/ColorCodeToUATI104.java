@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * HRPD ColorCode to UATI Mapping Table number of entries.
@@ -72,6 +74,16 @@ public class ColorCodeToUATI104 {
 	@CWMPParameter(access = "readWrite")
 	public byte[] uatI104;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ColorCodeToUATI104() {
 	}
 
@@ -94,6 +106,7 @@ public class ColorCodeToUATI104 {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -105,6 +118,7 @@ public class ColorCodeToUATI104 {
 	 */
 	public ColorCodeToUATI104 withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -126,6 +140,8 @@ public class ColorCodeToUATI104 {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -137,6 +153,8 @@ public class ColorCodeToUATI104 {
 	 */
 	public ColorCodeToUATI104 withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -158,6 +176,8 @@ public class ColorCodeToUATI104 {
 	 */
 	public void  setColorCode(Long colorCode) {
 		this.colorCode = colorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -169,6 +189,8 @@ public class ColorCodeToUATI104 {
 	 */
 	public ColorCodeToUATI104 withColorCode(Long colorCode) {
 		this.colorCode = colorCode;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -190,6 +212,8 @@ public class ColorCodeToUATI104 {
 	 */
 	public void  setUatI104(byte[] uatI104) {
 		this.uatI104 = uatI104;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -201,6 +225,8 @@ public class ColorCodeToUATI104 {
 	 */
 	public ColorCodeToUATI104 withUatI104(byte[] uatI104) {
 		this.uatI104 = uatI104;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
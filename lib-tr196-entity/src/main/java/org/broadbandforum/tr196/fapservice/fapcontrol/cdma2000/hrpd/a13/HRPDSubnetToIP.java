@@ -25,7 +25,9 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains attributes related to A13 Session Transfer
@@ -81,6 +83,16 @@ public class HRPDSubnetToIP {
 	@CWMPParameter(access = "readWrite")
 	public IPAddress a13IPAddress;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public HRPDSubnetToIP() {
 	}
 
@@ -103,6 +115,7 @@ public class HRPDSubnetToIP {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -114,6 +127,7 @@ public class HRPDSubnetToIP {
 	 */
 	public HRPDSubnetToIP withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +149,8 @@ public class HRPDSubnetToIP {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -146,6 +162,8 @@ public class HRPDSubnetToIP {
 	 */
 	public HRPDSubnetToIP withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +185,7 @@ public class HRPDSubnetToIP {
 	 */
 	public void  setHrpDSubnetLength(Long hrpDSubnetLength) {
 		this.hrpDSubnetLength = hrpDSubnetLength;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -178,6 +197,7 @@ public class HRPDSubnetToIP {
 	 */
 	public HRPDSubnetToIP withHrpDSubnetLength(Long hrpDSubnetLength) {
 		this.hrpDSubnetLength = hrpDSubnetLength;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -199,6 +219,7 @@ public class HRPDSubnetToIP {
 	 */
 	public void  setHrpDSubnet(byte[] hrpDSubnet) {
 		this.hrpDSubnet = hrpDSubnet;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -210,6 +231,7 @@ public class HRPDSubnetToIP {
 	 */
 	public HRPDSubnetToIP withHrpDSubnet(byte[] hrpDSubnet) {
 		this.hrpDSubnet = hrpDSubnet;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -231,6 +253,8 @@ public class HRPDSubnetToIP {
 	 */
 	public void  setA13IPAddress(IPAddress a13IPAddress) {
 		this.a13IPAddress = a13IPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -242,6 +266,8 @@ public class HRPDSubnetToIP {
 	 */
 	public HRPDSubnetToIP withA13IPAddress(IPAddress a13IPAddress) {
 		this.a13IPAddress = a13IPAddress;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
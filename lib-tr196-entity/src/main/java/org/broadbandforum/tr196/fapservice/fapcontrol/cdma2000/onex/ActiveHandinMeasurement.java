@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * CDMA2000 1x active handin operational parameters.
@@ -62,6 +63,11 @@ public class ActiveHandinMeasurement {
 	@Size(min = -150, max = 0)
 	public Integer measurementReportThreshold;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ActiveHandinMeasurement() {
 	}
 
@@ -84,6 +90,7 @@ public class ActiveHandinMeasurement {
 	 */
 	public void  setActiveHandinMeasurementEnable(Boolean activeHandinMeasurementEnable) {
 		this.activeHandinMeasurementEnable = activeHandinMeasurementEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -95,6 +102,7 @@ public class ActiveHandinMeasurement {
 	 */
 	public ActiveHandinMeasurement withActiveHandinMeasurementEnable(Boolean activeHandinMeasurementEnable) {
 		this.activeHandinMeasurementEnable = activeHandinMeasurementEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -116,6 +124,7 @@ public class ActiveHandinMeasurement {
 	 */
 	public void  setActiveHandInMeasurementDuration(Long activeHandInMeasurementDuration) {
 		this.activeHandInMeasurementDuration = activeHandInMeasurementDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -127,6 +136,7 @@ public class ActiveHandinMeasurement {
 	 */
 	public ActiveHandinMeasurement withActiveHandInMeasurementDuration(Long activeHandInMeasurementDuration) {
 		this.activeHandInMeasurementDuration = activeHandInMeasurementDuration;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -148,6 +158,7 @@ public class ActiveHandinMeasurement {
 	 */
 	public void  setMeasurementReportThreshold(Integer measurementReportThreshold) {
 		this.measurementReportThreshold = measurementReportThreshold;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -159,6 +170,7 @@ public class ActiveHandinMeasurement {
 	 */
 	public ActiveHandinMeasurement withMeasurementReportThreshold(Integer measurementReportThreshold) {
 		this.measurementReportThreshold = measurementReportThreshold;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
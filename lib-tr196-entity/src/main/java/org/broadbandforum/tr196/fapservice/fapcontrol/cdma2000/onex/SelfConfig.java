@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the controlling of self-configuration capabilities in the FAP.
@@ -67,6 +68,11 @@ public class SelfConfig {
 	@CWMPParameter(access = "readWrite")
 	public Boolean maxFAPBeaconTxPowerSelfConfigEnable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SelfConfig() {
 	}
 
@@ -89,6 +95,7 @@ public class SelfConfig {
 	 */
 	public void  setRfcNFLSelfConfigEnable(Boolean rfcNFLSelfConfigEnable) {
 		this.rfcNFLSelfConfigEnable = rfcNFLSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +107,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withRfcNFLSelfConfigEnable(Boolean rfcNFLSelfConfigEnable) {
 		this.rfcNFLSelfConfigEnable = rfcNFLSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +129,7 @@ public class SelfConfig {
 	 */
 	public void  setPilotPNSelfConfigEnable(Boolean pilotPNSelfConfigEnable) {
 		this.pilotPNSelfConfigEnable = pilotPNSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +141,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withPilotPNSelfConfigEnable(Boolean pilotPNSelfConfigEnable) {
 		this.pilotPNSelfConfigEnable = pilotPNSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -153,6 +163,7 @@ public class SelfConfig {
 	 */
 	public void  setMaxFAPTxPowerSelfConfigEnable(Boolean maxFAPTxPowerSelfConfigEnable) {
 		this.maxFAPTxPowerSelfConfigEnable = maxFAPTxPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -164,6 +175,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withMaxFAPTxPowerSelfConfigEnable(Boolean maxFAPTxPowerSelfConfigEnable) {
 		this.maxFAPTxPowerSelfConfigEnable = maxFAPTxPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -185,6 +197,7 @@ public class SelfConfig {
 	 */
 	public void  setMaxFAPBeaconTxPowerSelfConfigEnable(Boolean maxFAPBeaconTxPowerSelfConfigEnable) {
 		this.maxFAPBeaconTxPowerSelfConfigEnable = maxFAPBeaconTxPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -196,6 +209,7 @@ public class SelfConfig {
 	 */
 	public SelfConfig withMaxFAPBeaconTxPowerSelfConfigEnable(Boolean maxFAPBeaconTxPowerSelfConfigEnable) {
 		this.maxFAPBeaconTxPowerSelfConfigEnable = maxFAPBeaconTxPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
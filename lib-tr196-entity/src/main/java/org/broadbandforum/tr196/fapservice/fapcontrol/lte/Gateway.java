@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.fapcontrol.lte;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the Gateways that the LTE FAP is connected to.
@@ -93,6 +95,11 @@ public class Gateway {
 	@Size(max = 65535)
 	public Long s1sigLinkPort;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Gateway() {
 	}
 
@@ -115,6 +122,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer1(String secGWServer1) {
 		this.secGWServer1 = secGWServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -126,6 +134,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer1(String secGWServer1) {
 		this.secGWServer1 = secGWServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -147,6 +156,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer2(String secGWServer2) {
 		this.secGWServer2 = secGWServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -158,6 +168,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer2(String secGWServer2) {
 		this.secGWServer2 = secGWServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -179,6 +190,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer3(String secGWServer3) {
 		this.secGWServer3 = secGWServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -190,6 +202,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer3(String secGWServer3) {
 		this.secGWServer3 = secGWServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -204,6 +217,17 @@ public class Gateway {
 		return s1sigLinkServerList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a S1 signaling connection end point (-GW or MME) the LTE FAP attempts to establish connection with. It is in the form of either hostname or IPaddress. LTE FAP's behavior in terms of the number of S1 connection to established with is determined by {{param|S1ConnectionMode}} parameter. If {{param|S1ConnectionMode}} has the value of {{enum|One|S1ConnectionMode}}, then LTE FAP attempts to establish S1 connection with only one address following the ordering of the list. If {{param|S1ConnectionMode}} has the value of {{enum|All|S1ConnectionMode}}, then LTE FAP attempts to establish connection with all addresses in the list.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewS1sigLinkServerList() {
+		return s1sigLinkServerList == null ? Collections.emptyList() : s1sigLinkServerList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a S1 signaling connection end point (-GW or MME) the LTE FAP attempts to establish connection with. It is in the form of either hostname or IPaddress. LTE FAP's behavior in terms of the number of S1 connection to established with is determined by {{param|S1ConnectionMode}} parameter. If {{param|S1ConnectionMode}} has the value of {{enum|One|S1ConnectionMode}}, then LTE FAP attempts to establish S1 connection with only one address following the ordering of the list. If {{param|S1ConnectionMode}} has the value of {{enum|All|S1ConnectionMode}}, then LTE FAP attempts to establish connection with all addresses in the list.
 	 *
@@ -212,6 +236,7 @@ public class Gateway {
 	 */
 	public void  setS1sigLinkServerList(Collection<String> s1sigLinkServerList) {
 		this.s1sigLinkServerList = s1sigLinkServerList;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -223,6 +248,7 @@ public class Gateway {
 	 */
 	public Gateway withS1sigLinkServerList(String string) {
 		getS1sigLinkServerList().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -244,6 +270,7 @@ public class Gateway {
 	 */
 	public void  setS1connectionMode(String s1connectionMode) {
 		this.s1connectionMode = s1connectionMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -255,6 +282,7 @@ public class Gateway {
 	 */
 	public Gateway withS1connectionMode(String s1connectionMode) {
 		this.s1connectionMode = s1connectionMode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -276,6 +304,7 @@ public class Gateway {
 	 */
 	public void  setS1sigLinkPort(Long s1sigLinkPort) {
 		this.s1sigLinkPort = s1sigLinkPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -287,6 +316,7 @@ public class Gateway {
 	 */
 	public Gateway withS1sigLinkPort(Long s1sigLinkPort) {
 		this.s1sigLinkPort = s1sigLinkPort;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
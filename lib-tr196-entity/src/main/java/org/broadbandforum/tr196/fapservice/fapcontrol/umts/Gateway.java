@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the Gateways that FAP is connected to.
@@ -99,6 +100,11 @@ public class Gateway {
 	@Size(max = 65535)
 	public Long fapGWPort;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Gateway() {
 	}
 
@@ -121,6 +127,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer1(String secGWServer1) {
 		this.secGWServer1 = secGWServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -132,6 +139,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer1(String secGWServer1) {
 		this.secGWServer1 = secGWServer1;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -153,6 +161,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer2(String secGWServer2) {
 		this.secGWServer2 = secGWServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -164,6 +173,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer2(String secGWServer2) {
 		this.secGWServer2 = secGWServer2;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -185,6 +195,7 @@ public class Gateway {
 	 */
 	public void  setSecGWServer3(String secGWServer3) {
 		this.secGWServer3 = secGWServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -196,6 +207,7 @@ public class Gateway {
 	 */
 	public Gateway withSecGWServer3(String secGWServer3) {
 		this.secGWServer3 = secGWServer3;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -217,6 +229,7 @@ public class Gateway {
 	 */
 	public void  setFapGWServer1(String fapGWServer1) {
 		this.fapGWServer1 = fapGWServer1;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -228,6 +241,7 @@ public class Gateway {
 	 */
 	public Gateway withFapGWServer1(String fapGWServer1) {
 		this.fapGWServer1 = fapGWServer1;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -249,6 +263,7 @@ public class Gateway {
 	 */
 	public void  setFapGWServer2(String fapGWServer2) {
 		this.fapGWServer2 = fapGWServer2;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -260,6 +275,7 @@ public class Gateway {
 	 */
 	public Gateway withFapGWServer2(String fapGWServer2) {
 		this.fapGWServer2 = fapGWServer2;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -281,6 +297,7 @@ public class Gateway {
 	 */
 	public void  setFapGWServer3(String fapGWServer3) {
 		this.fapGWServer3 = fapGWServer3;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -292,6 +309,7 @@ public class Gateway {
 	 */
 	public Gateway withFapGWServer3(String fapGWServer3) {
 		this.fapGWServer3 = fapGWServer3;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -313,6 +331,7 @@ public class Gateway {
 	 */
 	public void  setFapGWPort(Long fapGWPort) {
 		this.fapGWPort = fapGWPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -324,6 +343,7 @@ public class Gateway {
 	 */
 	public Gateway withFapGWPort(Long fapGWPort) {
 		this.fapGWPort = fapGWPort;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the controlling of self-configuration capabilities in the FAP.
@@ -191,6 +192,11 @@ If {{false}} the ACS must provide the specific value to be used.
 	@CWMPParameter(access = "readWrite")
 	public Boolean noiseRiseLimitConfigEnable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SelfConfig() {
 	}
 
@@ -221,6 +227,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setUarFCNSelfConfigEnable(Boolean uarFCNSelfConfigEnable) {
 		this.uarFCNSelfConfigEnable = uarFCNSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -236,6 +243,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withUarFCNSelfConfigEnable(Boolean uarFCNSelfConfigEnable) {
 		this.uarFCNSelfConfigEnable = uarFCNSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -265,6 +273,7 @@ If {{false}} the ACS MUST provide the specific value to be used.
 	 */
 	public void  setPrimaryScramblingCodeSelfConfigEnable(Boolean primaryScramblingCodeSelfConfigEnable) {
 		this.primaryScramblingCodeSelfConfigEnable = primaryScramblingCodeSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -280,6 +289,7 @@ If {{false}} the ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withPrimaryScramblingCodeSelfConfigEnable(Boolean primaryScramblingCodeSelfConfigEnable) {
 		this.primaryScramblingCodeSelfConfigEnable = primaryScramblingCodeSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -309,6 +319,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setMaxFAPTxPowerExpandedSelfConfigEnable(Boolean maxFAPTxPowerExpandedSelfConfigEnable) {
 		this.maxFAPTxPowerExpandedSelfConfigEnable = maxFAPTxPowerExpandedSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -324,6 +335,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withMaxFAPTxPowerExpandedSelfConfigEnable(Boolean maxFAPTxPowerExpandedSelfConfigEnable) {
 		this.maxFAPTxPowerExpandedSelfConfigEnable = maxFAPTxPowerExpandedSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -353,6 +365,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setPcpICHPowerSelfConfigEnable(Boolean pcpICHPowerSelfConfigEnable) {
 		this.pcpICHPowerSelfConfigEnable = pcpICHPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -368,6 +381,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withPcpICHPowerSelfConfigEnable(Boolean pcpICHPowerSelfConfigEnable) {
 		this.pcpICHPowerSelfConfigEnable = pcpICHPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -397,6 +411,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setMaxULTxPowerSelfConfigEnable(Boolean maxULTxPowerSelfConfigEnable) {
 		this.maxULTxPowerSelfConfigEnable = maxULTxPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -412,6 +427,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withMaxULTxPowerSelfConfigEnable(Boolean maxULTxPowerSelfConfigEnable) {
 		this.maxULTxPowerSelfConfigEnable = maxULTxPowerSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -441,6 +457,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setLacRACURASelfConfigEnable(Boolean lacRACURASelfConfigEnable) {
 		this.lacRACURASelfConfigEnable = lacRACURASelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -456,6 +473,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withLacRACURASelfConfigEnable(Boolean lacRACURASelfConfigEnable) {
 		this.lacRACURASelfConfigEnable = lacRACURASelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -485,6 +503,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setNeighborListSelfConfigEnable(Boolean neighborListSelfConfigEnable) {
 		this.neighborListSelfConfigEnable = neighborListSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -500,6 +519,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withNeighborListSelfConfigEnable(Boolean neighborListSelfConfigEnable) {
 		this.neighborListSelfConfigEnable = neighborListSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -529,6 +549,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setCellReSelectionSelfConfigEnable(Boolean cellReSelectionSelfConfigEnable) {
 		this.cellReSelectionSelfConfigEnable = cellReSelectionSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -544,6 +565,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withCellReSelectionSelfConfigEnable(Boolean cellReSelectionSelfConfigEnable) {
 		this.cellReSelectionSelfConfigEnable = cellReSelectionSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -573,6 +595,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setIntraFreqMeasSelfConfigEnable(Boolean intraFreqMeasSelfConfigEnable) {
 		this.intraFreqMeasSelfConfigEnable = intraFreqMeasSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -588,6 +611,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withIntraFreqMeasSelfConfigEnable(Boolean intraFreqMeasSelfConfigEnable) {
 		this.intraFreqMeasSelfConfigEnable = intraFreqMeasSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -617,6 +641,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setInterFreqMeasSelfConfigEnable(Boolean interFreqMeasSelfConfigEnable) {
 		this.interFreqMeasSelfConfigEnable = interFreqMeasSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -632,6 +657,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withInterFreqMeasSelfConfigEnable(Boolean interFreqMeasSelfConfigEnable) {
 		this.interFreqMeasSelfConfigEnable = interFreqMeasSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -661,6 +687,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setInterRATMeasSelfConfigEnable(Boolean interRATMeasSelfConfigEnable) {
 		this.interRATMeasSelfConfigEnable = interRATMeasSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -676,6 +703,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withInterRATMeasSelfConfigEnable(Boolean interRATMeasSelfConfigEnable) {
 		this.interRATMeasSelfConfigEnable = interRATMeasSelfConfigEnable;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -705,6 +733,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public void  setUeinternalMeasConfigEnable(Boolean ueinternalMeasConfigEnable) {
 		this.ueinternalMeasConfigEnable = ueinternalMeasConfigEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -720,6 +749,7 @@ If {{false}} The ACS MUST provide the specific value to be used.
 	 */
 	public SelfConfig withUeinternalMeasConfigEnable(Boolean ueinternalMeasConfigEnable) {
 		this.ueinternalMeasConfigEnable = ueinternalMeasConfigEnable;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -749,6 +779,7 @@ If {{false}} the ACS must provide the specific value to be used.
 	 */
 	public void  setNoiseRiseLimitConfigEnable(Boolean noiseRiseLimitConfigEnable) {
 		this.noiseRiseLimitConfigEnable = noiseRiseLimitConfigEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -764,6 +795,7 @@ If {{false}} the ACS must provide the specific value to be used.
 	 */
 	public SelfConfig withNoiseRiseLimitConfigEnable(Boolean noiseRiseLimitConfigEnable) {
 		this.noiseRiseLimitConfigEnable = noiseRiseLimitConfigEnable;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -22,8 +22,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr196.fapservice.rem.cdma2000.HRPD;
 import org.broadbandforum.tr196.fapservice.rem.cdma2000.MacroTiming;
 import org.broadbandforum.tr196.fapservice.rem.cdma2000.OneX;
@@ -103,6 +106,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 * @since 2.0
 	 */
 	@XmlElement(name = "PeriodicTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicTime;
 	/**
@@ -142,6 +146,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastScanTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime lastScanTime;
 	/**
 	 * This object contains parameters relating to radio environment measurement capabilities for the 1x system.
@@ -159,6 +164,11 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	@XmlElement(name = "MacroTiming")
 	public MacroTiming macroTiming;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CDMA2000() {
 	}
 
@@ -181,6 +191,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -192,6 +203,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -213,6 +225,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -224,6 +237,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -245,6 +259,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setScanNow(Boolean scanNow) {
 		this.scanNow = scanNow;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -256,6 +271,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withScanNow(Boolean scanNow) {
 		this.scanNow = scanNow;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -277,6 +293,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setReturnTimer(Long returnTimer) {
 		this.returnTimer = returnTimer;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -288,6 +305,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withReturnTimer(Long returnTimer) {
 		this.returnTimer = returnTimer;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -309,6 +327,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -320,6 +339,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -341,6 +361,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -352,6 +373,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -389,6 +411,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -408,6 +431,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -429,6 +453,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setReportOverheads(String reportOverheads) {
 		this.reportOverheads = reportOverheads;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -440,6 +465,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withReportOverheads(String reportOverheads) {
 		this.reportOverheads = reportOverheads;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -461,6 +487,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -472,6 +499,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -493,6 +521,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -504,6 +533,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -525,6 +555,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -536,6 +567,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -557,6 +589,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -568,6 +601,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public CDMA2000 withLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
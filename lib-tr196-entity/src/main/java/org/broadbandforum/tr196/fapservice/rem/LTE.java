@@ -18,6 +18,7 @@ package org.broadbandforum.tr196.fapservice.rem;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr196.fapservice.rem.lte.CarrierMeas;
 import org.broadbandforum.tr196.fapservice.rem.lte.Cell;
 
@@ -88,6 +93,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 * @since 2.0
 	 */
 	@XmlElement(name = "PeriodicTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicTime;
 	/**
@@ -156,6 +162,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastScanTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "forceDefaultEnabled")
 	public LocalDateTime lastScanTime;
 	/**
@@ -186,6 +193,11 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	@CWMPParameter(access = "readWrite")
 	public Collection<CarrierMeas> carrierMeass;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public LTE() {
 	}
 
@@ -208,6 +220,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -219,6 +232,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -240,6 +254,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -251,6 +266,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -272,6 +288,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -283,6 +300,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -304,6 +322,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -315,6 +334,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -352,6 +372,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -371,6 +392,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public LTE withPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -387,6 +409,19 @@ If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is requ
 		return remPLMNList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a PLMN ID to measure. PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC) {{bibref|3GPP-TS.23.003}}, {{bibref|3GPP-TS.24.008}}.
+
+If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is required to scan all available PLMN IDs.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemPLMNList() {
+		return remPLMNList == null ? Collections.emptyList() : remPLMNList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a PLMN ID to measure. PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC) {{bibref|3GPP-TS.23.003}}, {{bibref|3GPP-TS.24.008}}.
 
@@ -397,6 +432,7 @@ If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is requ
 	 */
 	public void  setRemPLMNList(Collection<String> remPLMNList) {
 		this.remPLMNList = remPLMNList;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -410,6 +446,7 @@ If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is requ
 	 */
 	public LTE withRemPLMNList(String string) {
 		getRemPLMNList().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -428,6 +465,21 @@ The order of the band indicator has no significance.
 		return remBandList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a LTE Band to measure. Corresponds to frequency band indicator defined in {{bibref|3GPP-TS.36.101|Table 5.5-1}}.
+
+If {{empty}} then no specific LTE band is provided, meaning that the FAP is required to scan all available bands.
+
+The order of the band indicator has no significance.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemBandList() {
+		return remBandList == null ? Collections.emptyList() : remBandList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a LTE Band to measure. Corresponds to frequency band indicator defined in {{bibref|3GPP-TS.36.101|Table 5.5-1}}.
 
@@ -440,6 +492,7 @@ The order of the band indicator has no significance.
 	 */
 	public void  setRemBandList(Collection<String> remBandList) {
 		this.remBandList = remBandList;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -455,6 +508,7 @@ The order of the band indicator has no significance.
 	 */
 	public LTE withRemBandList(String string) {
 		getRemBandList().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -471,6 +525,19 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 		return eutRACarrierARFCNDLList;
 	}
 
+	/**
+	 * Read the {{list}} Each entry is a EUTRA ARFCN in the DL direction to measure. Corrsponds to the parameter NDL in {{bibref|3GPP-TS.36.101|Section 5.7.3}}.
+
+If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is required to scan all ARFCNs that it is aware of.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEutRACarrierARFCNDLList() {
+		return eutRACarrierARFCNDLList == null ? Collections.emptyList() : eutRACarrierARFCNDLList;
+	}
+
 	/**
 	 * Set the {{list}} Each entry is a EUTRA ARFCN in the DL direction to measure. Corrsponds to the parameter NDL in {{bibref|3GPP-TS.36.101|Section 5.7.3}}.
 
@@ -481,6 +548,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setEutRACarrierARFCNDLList(Collection<String> eutRACarrierARFCNDLList) {
 		this.eutRACarrierARFCNDLList = eutRACarrierARFCNDLList;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -494,6 +562,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withEutRACarrierARFCNDLList(String string) {
 		getEutRACarrierARFCNDLList().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -515,6 +584,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -526,6 +596,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -547,6 +618,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -558,6 +630,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -579,6 +652,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -590,6 +664,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -611,6 +686,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -622,6 +698,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -643,6 +720,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -654,6 +732,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -675,6 +754,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public void  setMaxCarrierMeasEntries(Long maxCarrierMeasEntries) {
 		this.maxCarrierMeasEntries = maxCarrierMeasEntries;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -686,6 +766,7 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 */
 	public LTE withMaxCarrierMeasEntries(Long maxCarrierMeasEntries) {
 		this.maxCarrierMeasEntries = maxCarrierMeasEntries;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -695,10 +776,20 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 * @return the value
 	 */
 	public Collection<Cell> getCells() {
-		if (this.cells == null){ this.cells=new ArrayList<>();}
+		if (!(this.cells instanceof InstanceTable)){ this.cells=InstanceTable.of(this.cells);}
 		return cells;
 	}
 
+	/**
+	 * Read the table indicating the components of the discovered cells.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Cell> viewCells() {
+		return cells == null ? Collections.emptyList() : cells;
+	}
+
 	/**
 	 * Set the table indicating the components of the discovered cells.
 	 *
@@ -725,10 +816,20 @@ If {{empty}}, then no specific EUTRA ARFCN is provided, meaning that the FAP is
 	 * @return the value
 	 */
 	public Collection<CarrierMeas> getCarrierMeass() {
-		if (this.carrierMeass == null){ this.carrierMeass=new ArrayList<>();}
+		if (!(this.carrierMeass instanceof InstanceTable)){ this.carrierMeass=InstanceTable.of(this.carrierMeass);}
 		return carrierMeass;
 	}
 
+	/**
+	 * Read the table indicating the measurement of the discovered carrier. The information stored in this object is strictly in the physical layer level and may not necessarily be associated with any particular E-UTRAN cell (e.g. interference level generated by sources other than E-UTRAN cell).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CarrierMeas> viewCarrierMeass() {
+		return carrierMeass == null ? Collections.emptyList() : carrierMeass;
+	}
+
 	/**
 	 * Set the table indicating the measurement of the discovered carrier. The information stored in this object is strictly in the physical layer level and may not necessarily be associated with any particular E-UTRAN cell (e.g. interference level generated by sources other than E-UTRAN cell).
 	 *
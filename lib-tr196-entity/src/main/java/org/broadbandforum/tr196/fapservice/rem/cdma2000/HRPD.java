@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.rem.cdma2000;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.rem.cdma2000.hrpd.Cell;
 import org.broadbandforum.tr196.fapservice.rem.cdma2000.hrpd.Channel;
 
@@ -67,6 +69,11 @@ public class HRPD {
 	@XmlElement(name = "Cell")
 	public Collection<Cell> cells;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public HRPD() {
 	}
 
@@ -89,6 +96,7 @@ public class HRPD {
 	 */
 	public void  setMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -100,6 +108,7 @@ public class HRPD {
 	 */
 	public HRPD withMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -121,6 +130,7 @@ public class HRPD {
 	 */
 	public void  setMaxChannelEntries(Long maxChannelEntries) {
 		this.maxChannelEntries = maxChannelEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -132,6 +142,7 @@ public class HRPD {
 	 */
 	public HRPD withMaxChannelEntries(Long maxChannelEntries) {
 		this.maxChannelEntries = maxChannelEntries;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -141,10 +152,20 @@ public class HRPD {
 	 * @return the value
 	 */
 	public Collection<Channel> getChannels() {
-		if (this.channels == null){ this.channels=new ArrayList<>();}
+		if (!(this.channels instanceof InstanceTable)){ this.channels=InstanceTable.of(this.channels);}
 		return channels;
 	}
 
+	/**
+	 * Read the rem specific configuration and reporting.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Channel> viewChannels() {
+		return channels == null ? Collections.emptyList() : channels;
+	}
+
 	/**
 	 * Set the rem specific configuration and reporting.
 	 *
@@ -171,10 +192,20 @@ public class HRPD {
 	 * @return the value
 	 */
 	public Collection<Cell> getCells() {
-		if (this.cells == null){ this.cells=new ArrayList<>();}
+		if (!(this.cells instanceof InstanceTable)){ this.cells=InstanceTable.of(this.cells);}
 		return cells;
 	}
 
+	/**
+	 * Read the table indicating the components of the discovered cells.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Cell> viewCells() {
+		return cells == null ? Collections.emptyList() : cells;
+	}
+
 	/**
 	 * Set the table indicating the components of the discovered cells.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.rem.cdma2000;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -27,6 +28,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.rem.cdma2000.macrotiming.Channel;
 
 	/**
@@ -97,6 +100,11 @@ The other read-only parameters in this object only have valid values when timing
 	@CWMPParameter(access = "readWrite")
 	public Collection<Channel> channels;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public MacroTiming() {
 	}
 
@@ -119,6 +127,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public void  setAdminState(Long adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -130,6 +139,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public MacroTiming withAdminState(Long adminState) {
 		this.adminState = adminState;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -151,6 +161,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public void  setTrackingChannelNumber(Long trackingChannelNumber) {
 		this.trackingChannelNumber = trackingChannelNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -162,6 +173,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public MacroTiming withTrackingChannelNumber(Long trackingChannelNumber) {
 		this.trackingChannelNumber = trackingChannelNumber;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -183,6 +195,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public void  setTrackingBandClass(Long trackingBandClass) {
 		this.trackingBandClass = trackingBandClass;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -194,6 +207,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public MacroTiming withTrackingBandClass(Long trackingBandClass) {
 		this.trackingBandClass = trackingBandClass;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -208,6 +222,17 @@ The other read-only parameters in this object only have valid values when timing
 		return trackingPNOffset;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a (single value) PN offset in units of 64 PN chips of a Macro Base Station currently used for MacroTiming.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewTrackingPNOffset() {
+		return trackingPNOffset == null ? Collections.emptyList() : trackingPNOffset;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a (single value) PN offset in units of 64 PN chips of a Macro Base Station currently used for MacroTiming.
 	 *
@@ -216,6 +241,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public void  setTrackingPNOffset(Collection<String> trackingPNOffset) {
 		this.trackingPNOffset = trackingPNOffset;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -227,6 +253,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public MacroTiming withTrackingPNOffset(String string) {
 		getTrackingPNOffset().add(string);
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -260,6 +287,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public void  setTimingSource(Long timingSource) {
 		this.timingSource = timingSource;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -277,6 +305,7 @@ The other read-only parameters in this object only have valid values when timing
 	 */
 	public MacroTiming withTimingSource(Long timingSource) {
 		this.timingSource = timingSource;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -286,10 +315,20 @@ The other read-only parameters in this object only have valid values when timing
 	 * @return the value
 	 */
 	public Collection<Channel> getChannels() {
-		if (this.channels == null){ this.channels=new ArrayList<>();}
+		if (!(this.channels instanceof InstanceTable)){ this.channels=InstanceTable.of(this.channels);}
 		return channels;
 	}
 
+	/**
+	 * Read the object used to configure list of channels to be used for Macto Timing.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Channel> viewChannels() {
+		return channels == null ? Collections.emptyList() : channels;
+	}
+
 	/**
 	 * Set the object used to configure list of channels to be used for Macto Timing.
 	 *
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.rem.cdma2000.hrpd;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * REM specific configuration and reporting.
@@ -85,6 +88,16 @@ public class Channel {
 	@XmlList
 	public Collection<String> pnlist;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Channel() {
 	}
 
@@ -107,6 +120,7 @@ public class Channel {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -118,6 +132,7 @@ public class Channel {
 	 */
 	public Channel withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -139,6 +154,8 @@ public class Channel {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -150,6 +167,8 @@ public class Channel {
 	 */
 	public Channel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -171,6 +190,8 @@ public class Channel {
 	 */
 	public void  setSniffingBandClass(Long sniffingBandClass) {
 		this.sniffingBandClass = sniffingBandClass;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -182,6 +203,8 @@ public class Channel {
 	 */
 	public Channel withSniffingBandClass(Long sniffingBandClass) {
 		this.sniffingBandClass = sniffingBandClass;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -203,6 +226,8 @@ public class Channel {
 	 */
 	public void  setSniffingChannelNumber(Long sniffingChannelNumber) {
 		this.sniffingChannelNumber = sniffingChannelNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -214,6 +239,8 @@ public class Channel {
 	 */
 	public Channel withSniffingChannelNumber(Long sniffingChannelNumber) {
 		this.sniffingChannelNumber = sniffingChannelNumber;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -228,6 +255,17 @@ public class Channel {
 		return pnlist;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a (single value) PN offset in units of 64 PN chips or PNrange expressed in the following format:  <Start-value>".."<End-value>:<Increment>. If an empty string, then no specific PNList is provided, meaning that the FAP is required to pick a PN list to scan on its own.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPnlist() {
+		return pnlist == null ? Collections.emptyList() : pnlist;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a (single value) PN offset in units of 64 PN chips or PNrange expressed in the following format:  <Start-value>".."<End-value>:<Increment>. If an empty string, then no specific PNList is provided, meaning that the FAP is required to pick a PN list to scan on its own.
 	 *
@@ -236,6 +274,8 @@ public class Channel {
 	 */
 	public void  setPnlist(Collection<String> pnlist) {
 		this.pnlist = pnlist;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -247,6 +287,8 @@ public class Channel {
 	 */
 	public Channel withPnlist(String string) {
 		getPnlist().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
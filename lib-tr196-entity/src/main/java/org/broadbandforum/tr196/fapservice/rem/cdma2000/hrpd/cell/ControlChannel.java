@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Table containing information braodcast on control channel.
@@ -80,6 +81,11 @@ public class ControlChannel {
 	@Size(min = -2592000, max = 2592000)
 	public Integer longitude;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ControlChannel() {
 	}
 
@@ -102,6 +108,7 @@ public class ControlChannel {
 	 */
 	public void  setColorCode(Integer colorCode) {
 		this.colorCode = colorCode;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -113,6 +120,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withColorCode(Integer colorCode) {
 		this.colorCode = colorCode;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -134,6 +142,7 @@ public class ControlChannel {
 	 */
 	public void  setSectorID(byte[] sectorID) {
 		this.sectorID = sectorID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -145,6 +154,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withSectorID(byte[] sectorID) {
 		this.sectorID = sectorID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -166,6 +176,7 @@ public class ControlChannel {
 	 */
 	public void  setSubnetMask(Integer subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -177,6 +188,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withSubnetMask(Integer subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -198,6 +210,7 @@ public class ControlChannel {
 	 */
 	public void  setCountryCode(Integer countryCode) {
 		this.countryCode = countryCode;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -209,6 +222,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withCountryCode(Integer countryCode) {
 		this.countryCode = countryCode;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -230,6 +244,7 @@ public class ControlChannel {
 	 */
 	public void  setLatitude(Integer latitude) {
 		this.latitude = latitude;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -241,6 +256,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withLatitude(Integer latitude) {
 		this.latitude = latitude;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -262,6 +278,7 @@ public class ControlChannel {
 	 */
 	public void  setLongitude(Integer longitude) {
 		this.longitude = longitude;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -273,6 +290,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withLongitude(Integer longitude) {
 		this.longitude = longitude;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
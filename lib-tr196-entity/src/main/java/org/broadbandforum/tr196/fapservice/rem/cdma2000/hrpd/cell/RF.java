@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * RF REM results for each detected cell.
@@ -103,6 +104,11 @@ public class RF {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Boolean overheadsAvailable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -125,6 +131,7 @@ public class RF {
 	 */
 	public void  setBand(Integer band) {
 		this.band = band;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +143,7 @@ public class RF {
 	 */
 	public RF withBand(Integer band) {
 		this.band = band;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -157,6 +165,7 @@ public class RF {
 	 */
 	public void  setRfcNFL(Long rfcNFL) {
 		this.rfcNFL = rfcNFL;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -168,6 +177,7 @@ public class RF {
 	 */
 	public RF withRfcNFL(Long rfcNFL) {
 		this.rfcNFL = rfcNFL;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -189,6 +199,7 @@ public class RF {
 	 */
 	public void  setIo(Integer io) {
 		this.io = io;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -200,6 +211,7 @@ public class RF {
 	 */
 	public RF withIo(Integer io) {
 		this.io = io;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -221,6 +233,7 @@ public class RF {
 	 */
 	public void  setPilotPN(Long pilotPN) {
 		this.pilotPN = pilotPN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -232,6 +245,7 @@ public class RF {
 	 */
 	public RF withPilotPN(Long pilotPN) {
 		this.pilotPN = pilotPN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -253,6 +267,7 @@ public class RF {
 	 */
 	public void  setPilotPNPhase(Long pilotPNPhase) {
 		this.pilotPNPhase = pilotPNPhase;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -264,6 +279,7 @@ public class RF {
 	 */
 	public RF withPilotPNPhase(Long pilotPNPhase) {
 		this.pilotPNPhase = pilotPNPhase;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -285,6 +301,7 @@ public class RF {
 	 */
 	public void  setPilotStrengthEcp(Integer pilotStrengthEcp) {
 		this.pilotStrengthEcp = pilotStrengthEcp;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -296,6 +313,7 @@ public class RF {
 	 */
 	public RF withPilotStrengthEcp(Integer pilotStrengthEcp) {
 		this.pilotStrengthEcp = pilotStrengthEcp;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -317,6 +335,7 @@ public class RF {
 	 */
 	public void  setPilotStrengthEcpIo(Integer pilotStrengthEcpIo) {
 		this.pilotStrengthEcpIo = pilotStrengthEcpIo;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -328,6 +347,7 @@ public class RF {
 	 */
 	public RF withPilotStrengthEcpIo(Integer pilotStrengthEcpIo) {
 		this.pilotStrengthEcpIo = pilotStrengthEcpIo;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -349,6 +369,7 @@ public class RF {
 	 */
 	public void  setOverheadsAvailable(Boolean overheadsAvailable) {
 		this.overheadsAvailable = overheadsAvailable;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -360,6 +381,7 @@ public class RF {
 	 */
 	public RF withOverheadsAvailable(Boolean overheadsAvailable) {
 		this.overheadsAvailable = overheadsAvailable;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.rem.cdma2000.macrotiming;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Object used to configure list of channels to be used for Macto Timing.
@@ -105,6 +108,16 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	@XmlList
 	public Collection<String> pnlist;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Channel() {
 	}
 
@@ -127,6 +140,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -138,6 +152,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public Channel withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -159,6 +174,8 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -170,6 +187,8 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public Channel withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -191,6 +210,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public void  setAirInterfaceType(Long airInterfaceType) {
 		this.airInterfaceType = airInterfaceType;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -202,6 +222,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public Channel withAirInterfaceType(Long airInterfaceType) {
 		this.airInterfaceType = airInterfaceType;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -223,6 +244,8 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public void  setBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -234,6 +257,8 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public Channel withBandClass(Long bandClass) {
 		this.bandClass = bandClass;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -255,6 +280,8 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public void  setChannelNumber(Long channelNumber) {
 		this.channelNumber = channelNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -266,6 +293,8 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public Channel withChannelNumber(Long channelNumber) {
 		this.channelNumber = channelNumber;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -287,6 +316,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public void  setPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -298,6 +328,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public Channel withPriority(Long priority) {
 		this.priority = priority;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -316,6 +347,21 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 		return pnlist;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a (single value) PN offset in units of 64 PN chips or PNrange expressed in the following format:
+
+<Start-value>".."<End-value>:<Increment>
+
+If an empty string, then no specific PNList is provided, meaning that the FAP is required to pick a PN list to scan on its own.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewPnlist() {
+		return pnlist == null ? Collections.emptyList() : pnlist;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a (single value) PN offset in units of 64 PN chips or PNrange expressed in the following format:
 
@@ -328,6 +374,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public void  setPnlist(Collection<String> pnlist) {
 		this.pnlist = pnlist;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -343,6 +390,7 @@ If an empty string, then no specific PNList is provided, meaning that the FAP is
 	 */
 	public Channel withPnlist(String string) {
 		getPnlist().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
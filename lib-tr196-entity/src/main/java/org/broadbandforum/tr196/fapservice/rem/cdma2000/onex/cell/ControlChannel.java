@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Table containing information broadcast on control channel.
@@ -116,6 +117,11 @@ public class ControlChannel {
 	@Size(max = 256)
 	public String apiDTEXT;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ControlChannel() {
 	}
 
@@ -138,6 +144,7 @@ public class ControlChannel {
 	 */
 	public void  setSid(Integer sid) {
 		this.sid = sid;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -149,6 +156,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withSid(Integer sid) {
 		this.sid = sid;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -170,6 +178,7 @@ public class ControlChannel {
 	 */
 	public void  setNid(Integer nid) {
 		this.nid = nid;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -181,6 +190,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withNid(Integer nid) {
 		this.nid = nid;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -202,6 +212,7 @@ public class ControlChannel {
 	 */
 	public void  setRegZONE(Integer regZONE) {
 		this.regZONE = regZONE;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -213,6 +224,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withRegZONE(Integer regZONE) {
 		this.regZONE = regZONE;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -234,6 +246,7 @@ public class ControlChannel {
 	 */
 	public void  setBasELAT(Integer basELAT) {
 		this.basELAT = basELAT;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -245,6 +258,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withBasELAT(Integer basELAT) {
 		this.basELAT = basELAT;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -266,6 +280,7 @@ public class ControlChannel {
 	 */
 	public void  setBasELONG(Integer basELONG) {
 		this.basELONG = basELONG;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -277,6 +292,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withBasELONG(Integer basELONG) {
 		this.basELONG = basELONG;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -298,6 +314,7 @@ public class ControlChannel {
 	 */
 	public void  setMcc(Integer mcc) {
 		this.mcc = mcc;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -309,6 +326,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withMcc(Integer mcc) {
 		this.mcc = mcc;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -330,6 +348,7 @@ public class ControlChannel {
 	 */
 	public void  setMncIMSI1112(Integer mncIMSI1112) {
 		this.mncIMSI1112 = mncIMSI1112;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -341,6 +360,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withMncIMSI1112(Integer mncIMSI1112) {
 		this.mncIMSI1112 = mncIMSI1112;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -362,6 +382,7 @@ public class ControlChannel {
 	 */
 	public void  setBasEID(Integer basEID) {
 		this.basEID = basEID;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -373,6 +394,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withBasEID(Integer basEID) {
 		this.basEID = basEID;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -394,6 +416,7 @@ public class ControlChannel {
 	 */
 	public void  setApiD(String apiD) {
 		this.apiD = apiD;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -405,6 +428,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withApiD(String apiD) {
 		this.apiD = apiD;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -426,6 +450,7 @@ public class ControlChannel {
 	 */
 	public void  setApiDMASK(Integer apiDMASK) {
 		this.apiDMASK = apiDMASK;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -437,6 +462,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withApiDMASK(Integer apiDMASK) {
 		this.apiDMASK = apiDMASK;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -458,6 +484,7 @@ public class ControlChannel {
 	 */
 	public void  setApiDTEXT(String apiDTEXT) {
 		this.apiDTEXT = apiDTEXT;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -469,6 +496,7 @@ public class ControlChannel {
 	 */
 	public ControlChannel withApiDTEXT(String apiDTEXT) {
 		this.apiDTEXT = apiDTEXT;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
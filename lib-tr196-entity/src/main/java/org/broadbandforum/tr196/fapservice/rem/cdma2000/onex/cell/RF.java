@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * RF REM results for each detected cell.
@@ -102,6 +103,11 @@ public class RF {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Boolean overheadsAvailable;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -124,6 +130,7 @@ public class RF {
 	 */
 	public void  setBand(Integer band) {
 		this.band = band;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -135,6 +142,7 @@ public class RF {
 	 */
 	public RF withBand(Integer band) {
 		this.band = band;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -156,6 +164,7 @@ public class RF {
 	 */
 	public void  setRfcNFL(Long rfcNFL) {
 		this.rfcNFL = rfcNFL;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -167,6 +176,7 @@ public class RF {
 	 */
 	public RF withRfcNFL(Long rfcNFL) {
 		this.rfcNFL = rfcNFL;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -188,6 +198,7 @@ public class RF {
 	 */
 	public void  setIo(Integer io) {
 		this.io = io;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -199,6 +210,7 @@ public class RF {
 	 */
 	public RF withIo(Integer io) {
 		this.io = io;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -220,6 +232,7 @@ public class RF {
 	 */
 	public void  setPilotPN(Long pilotPN) {
 		this.pilotPN = pilotPN;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -231,6 +244,7 @@ public class RF {
 	 */
 	public RF withPilotPN(Long pilotPN) {
 		this.pilotPN = pilotPN;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -252,6 +266,7 @@ public class RF {
 	 */
 	public void  setPilotPNPhase(Long pilotPNPhase) {
 		this.pilotPNPhase = pilotPNPhase;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -263,6 +278,7 @@ public class RF {
 	 */
 	public RF withPilotPNPhase(Long pilotPNPhase) {
 		this.pilotPNPhase = pilotPNPhase;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -284,6 +300,7 @@ public class RF {
 	 */
 	public void  setPilotStrengthEcp(Integer pilotStrengthEcp) {
 		this.pilotStrengthEcp = pilotStrengthEcp;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -295,6 +312,7 @@ public class RF {
 	 */
 	public RF withPilotStrengthEcp(Integer pilotStrengthEcp) {
 		this.pilotStrengthEcp = pilotStrengthEcp;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -316,6 +334,7 @@ public class RF {
 	 */
 	public void  setPilotStrengthEcpIo(Integer pilotStrengthEcpIo) {
 		this.pilotStrengthEcpIo = pilotStrengthEcpIo;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -327,6 +346,7 @@ public class RF {
 	 */
 	public RF withPilotStrengthEcpIo(Integer pilotStrengthEcpIo) {
 		this.pilotStrengthEcpIo = pilotStrengthEcpIo;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -348,6 +368,7 @@ public class RF {
 	 */
 	public void  setOverheadsAvailable(Boolean overheadsAvailable) {
 		this.overheadsAvailable = overheadsAvailable;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -359,6 +380,7 @@ public class RF {
 	 */
 	public RF withOverheadsAvailable(Boolean overheadsAvailable) {
 		this.overheadsAvailable = overheadsAvailable;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table indicating the measurement of the discovered carrier. The information stored in this object is strictly in the physical layer level and may not necessarily be associated with any particular E-UTRAN cell (e.g. interference level generated by sources other than E-UTRAN cell).
@@ -81,6 +83,16 @@ public class CarrierMeas {
 	@Size(min = -100, max = -25)
 	public Integer carrierRSSI;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CarrierMeas() {
 	}
 
@@ -103,6 +115,7 @@ public class CarrierMeas {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -114,6 +127,7 @@ public class CarrierMeas {
 	 */
 	public CarrierMeas withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +149,8 @@ public class CarrierMeas {
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -146,6 +162,8 @@ public class CarrierMeas {
 	 */
 	public CarrierMeas withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -167,6 +185,8 @@ public class CarrierMeas {
 	 */
 	public void  setCarrierARFCNDL(Integer carrierARFCNDL) {
 		this.carrierARFCNDL = carrierARFCNDL;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -178,6 +198,8 @@ public class CarrierMeas {
 	 */
 	public CarrierMeas withCarrierARFCNDL(Integer carrierARFCNDL) {
 		this.carrierARFCNDL = carrierARFCNDL;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -199,6 +221,8 @@ public class CarrierMeas {
 	 */
 	public void  setCarrierChWidth(Integer carrierChWidth) {
 		this.carrierChWidth = carrierChWidth;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -210,6 +234,8 @@ public class CarrierMeas {
 	 */
 	public CarrierMeas withCarrierChWidth(Integer carrierChWidth) {
 		this.carrierChWidth = carrierChWidth;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -231,6 +257,7 @@ public class CarrierMeas {
 	 */
 	public void  setCarrierRSSI(Integer carrierRSSI) {
 		this.carrierRSSI = carrierRSSI;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -242,6 +269,7 @@ public class CarrierMeas {
 	 */
 	public CarrierMeas withCarrierRSSI(Integer carrierRSSI) {
 		this.carrierRSSI = carrierRSSI;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
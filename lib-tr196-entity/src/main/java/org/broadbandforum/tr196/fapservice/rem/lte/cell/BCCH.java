@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.rem.lte.cell;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.rem.lte.cell.bcch.PLMNList;
 
 	/**
@@ -114,6 +116,11 @@ public class BCCH {
 	@XmlElement(name = "PLMNList")
 	public Collection<PLMNList> plmNLists;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public BCCH() {
 	}
 
@@ -136,6 +143,7 @@ public class BCCH {
 	 */
 	public void  setDlbandwidth(Long dlbandwidth) {
 		this.dlbandwidth = dlbandwidth;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -147,6 +155,7 @@ public class BCCH {
 	 */
 	public BCCH withDlbandwidth(Long dlbandwidth) {
 		this.dlbandwidth = dlbandwidth;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -168,6 +177,7 @@ public class BCCH {
 	 */
 	public void  setUlbandwidth(Long ulbandwidth) {
 		this.ulbandwidth = ulbandwidth;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -179,6 +189,7 @@ public class BCCH {
 	 */
 	public BCCH withUlbandwidth(Long ulbandwidth) {
 		this.ulbandwidth = ulbandwidth;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -200,6 +211,7 @@ public class BCCH {
 	 */
 	public void  setRstxPower(Integer rstxPower) {
 		this.rstxPower = rstxPower;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -211,6 +223,7 @@ public class BCCH {
 	 */
 	public BCCH withRstxPower(Integer rstxPower) {
 		this.rstxPower = rstxPower;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -232,6 +245,7 @@ public class BCCH {
 	 */
 	public void  setTac(Long tac) {
 		this.tac = tac;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -243,6 +257,7 @@ public class BCCH {
 	 */
 	public BCCH withTac(Long tac) {
 		this.tac = tac;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -264,6 +279,7 @@ public class BCCH {
 	 */
 	public void  setCellID(Long cellID) {
 		this.cellID = cellID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -275,6 +291,7 @@ public class BCCH {
 	 */
 	public BCCH withCellID(Long cellID) {
 		this.cellID = cellID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -296,6 +313,7 @@ public class BCCH {
 	 */
 	public void  setCellBarred(Boolean cellBarred) {
 		this.cellBarred = cellBarred;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -307,6 +325,7 @@ public class BCCH {
 	 */
 	public BCCH withCellBarred(Boolean cellBarred) {
 		this.cellBarred = cellBarred;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -328,6 +347,7 @@ public class BCCH {
 	 */
 	public void  setCsgIndication(Boolean csgIndication) {
 		this.csgIndication = csgIndication;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -339,6 +359,7 @@ public class BCCH {
 	 */
 	public BCCH withCsgIndication(Boolean csgIndication) {
 		this.csgIndication = csgIndication;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -360,6 +381,7 @@ public class BCCH {
 	 */
 	public void  setCsgIdentity(Long csgIdentity) {
 		this.csgIdentity = csgIdentity;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -371,6 +393,7 @@ public class BCCH {
 	 */
 	public BCCH withCsgIdentity(Long csgIdentity) {
 		this.csgIdentity = csgIdentity;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -392,6 +415,7 @@ public class BCCH {
 	 */
 	public void  setMaxPLMNListEntries(Long maxPLMNListEntries) {
 		this.maxPLMNListEntries = maxPLMNListEntries;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -403,6 +427,7 @@ public class BCCH {
 	 */
 	public BCCH withMaxPLMNListEntries(Long maxPLMNListEntries) {
 		this.maxPLMNListEntries = maxPLMNListEntries;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -412,10 +437,20 @@ public class BCCH {
 	 * @return the value
 	 */
 	public Collection<PLMNList> getPlmNLists() {
-		if (this.plmNLists == null){ this.plmNLists=new ArrayList<>();}
+		if (!(this.plmNLists instanceof InstanceTable)){ this.plmNLists=InstanceTable.of(this.plmNLists);}
 		return plmNLists;
 	}
 
+	/**
+	 * Read the table containing the PLMN list in the system information broadcast in the BCCH logical channel. Correspnds to plmn-IdentityList as specified in SIB1 in {{bibref|3GPP-TS.36.331|Section 6.2.2}}. Each instance in this object is a PLMN-IdentityInfo which consists of plmn-Identity and cellReservedForOperatorUse IEs.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<PLMNList> viewPlmNLists() {
+		return plmNLists == null ? Collections.emptyList() : plmNLists;
+	}
+
 	/**
 	 * Set the table containing the PLMN list in the system information broadcast in the BCCH logical channel. Correspnds to plmn-IdentityList as specified in SIB1 in {{bibref|3GPP-TS.36.331|Section 6.2.2}}. Each instance in this object is a PLMN-IdentityInfo which consists of plmn-Identity and cellReservedForOperatorUse IEs.
 	 *
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Table indicating the RF aspect of the discovered cells.
@@ -75,6 +76,11 @@ public class RF {
 	@Size(min = -110, max = -19)
 	public Integer rssI;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -97,6 +103,7 @@ public class RF {
 	 */
 	public void  setEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -108,6 +115,7 @@ public class RF {
 	 */
 	public RF withEutRACarrierARFCN(Long eutRACarrierARFCN) {
 		this.eutRACarrierARFCN = eutRACarrierARFCN;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -129,6 +137,7 @@ public class RF {
 	 */
 	public void  setPhyCellID(Long phyCellID) {
 		this.phyCellID = phyCellID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -140,6 +149,7 @@ public class RF {
 	 */
 	public RF withPhyCellID(Long phyCellID) {
 		this.phyCellID = phyCellID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -161,6 +171,7 @@ public class RF {
 	 */
 	public void  setRsrP(Integer rsrP) {
 		this.rsrP = rsrP;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -172,6 +183,7 @@ public class RF {
 	 */
 	public RF withRsrP(Integer rsrP) {
 		this.rsrP = rsrP;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -193,6 +205,7 @@ public class RF {
 	 */
 	public void  setRsrQ(Integer rsrQ) {
 		this.rsrQ = rsrQ;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -204,6 +217,7 @@ public class RF {
 	 */
 	public RF withRsrQ(Integer rsrQ) {
 		this.rsrQ = rsrQ;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -225,6 +239,7 @@ public class RF {
 	 */
 	public void  setRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -236,6 +251,7 @@ public class RF {
 	 */
 	public RF withRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
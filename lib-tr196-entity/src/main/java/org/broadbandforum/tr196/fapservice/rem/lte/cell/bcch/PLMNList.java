@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table containing the PLMN list in the system information broadcast in the BCCH logical channel. Correspnds to plmn-IdentityList as specified in SIB1 in {{bibref|3GPP-TS.36.331|Section 6.2.2}}. Each instance in this object is a PLMN-IdentityInfo which consists of plmn-Identity and cellReservedForOperatorUse IEs.
@@ -53,6 +55,16 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	@XmlElement(name = "CellReservedForOperatorUse")
 	public Boolean cellReservedForOperatorUse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public PLMNList() {
 	}
 
@@ -79,6 +91,8 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -92,6 +106,8 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public PLMNList withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(0);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -113,6 +129,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public void  setCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -124,6 +141,7 @@ Mobile Country Code consists of three digits and uniquely identifies the country
 	 */
 	public PLMNList withCellReservedForOperatorUse(Boolean cellReservedForOperatorUse) {
 		this.cellReservedForOperatorUse = cellReservedForOperatorUse;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -18,6 +18,7 @@ package org.broadbandforum.tr196.fapservice.rem.umts;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr196.fapservice.rem.umts.gsm.Cell;
 
 	/**
@@ -87,6 +92,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 * @since 2.0
 	 */
 	@XmlElement(name = "PeriodicTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicTime;
 	/**
@@ -168,6 +174,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastScanTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "forceDefaultEnabled")
 	public LocalDateTime lastScanTime;
 	/**
@@ -184,6 +191,11 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	@XmlElement(name = "Cell")
 	public Collection<Cell> cells;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public GSM() {
 	}
 
@@ -206,6 +218,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -217,6 +230,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -238,6 +252,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -249,6 +264,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -270,6 +286,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -281,6 +298,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -302,6 +320,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -313,6 +332,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -350,6 +370,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -369,6 +390,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public GSM withPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -395,6 +417,29 @@ If a list is provided, the FAP is expected to limit the REM measurement to the P
 		return remPLMNList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a PLMNID.
+
+PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC) {{bibref|3GPP-TS.23.003}}, {{bibref|3GPP-TS.24.008}}.
+
+Mobile Country Code consists of three digits and uniquely identifies the country of domicile of the subscriber.
+
+Mobile Network Code consists of two or three digits and identifies the Home PLMN within a country.
+
+For a 2-digit MNC the total string length of the PLMNID is 5.
+
+If {{empty}} no specific PLMN ID is provided, meaning that the FAP is required to report all available PLMN IDs.
+
+If a list is provided, the FAP is expected to limit the REM measurement to the PLMN(s) specified in this list only and ignore others even if they are detected.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemPLMNList() {
+		return remPLMNList == null ? Collections.emptyList() : remPLMNList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a PLMNID.
 
@@ -415,6 +460,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the P
 	 */
 	public void  setRemPLMNList(Collection<String> remPLMNList) {
 		this.remPLMNList = remPLMNList;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -438,6 +484,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the P
 	 */
 	public GSM withRemPLMNList(String string) {
 		getRemPLMNList().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -458,6 +505,23 @@ If a list is provided, the FAP is expected to limit the REM measurement to the b
 		return remBandList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a GSM Band to measure. 
+
+Enumerated value must be one of [T-GSM380, T-GSM410, GSM450, GSM480, GSM710, GSM750, T-GSM810, GSM850, P-GSM900, E-GSM900, R-GSM900, T-GSM900, DCS1800, PCS1900]
+
+If {{empty}} then no specific GSM band is provided, meaning that the FAP MUST scan all bands.
+
+If a list is provided, the FAP is expected to limit the REM measurement to the band(s) specified in this list only and ignore others even if they are detected.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemBandList() {
+		return remBandList == null ? Collections.emptyList() : remBandList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a GSM Band to measure. 
 
@@ -472,6 +536,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the b
 	 */
 	public void  setRemBandList(Collection<String> remBandList) {
 		this.remBandList = remBandList;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -489,6 +554,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the b
 	 */
 	public GSM withRemBandList(String string) {
 		getRemBandList().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -507,6 +573,21 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 		return arfCNList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a GSM ARFCN to measure.
+
+If {{empty}} then no specific ARFCN is provided, meaning that the FAP is required to scan all ARFCNs.
+
+If a list is provided, the FAP is expected to limit the REM measurement to the ARFCN(s) specified in this list only and ignore others even if they are detected.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewArfCNList() {
+		return arfCNList == null ? Collections.emptyList() : arfCNList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a GSM ARFCN to measure.
 
@@ -519,6 +600,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setArfCNList(Collection<String> arfCNList) {
 		this.arfCNList = arfCNList;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -534,6 +616,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withArfCNList(String string) {
 		getArfCNList().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -555,6 +638,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -566,6 +650,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -587,6 +672,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -598,6 +684,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -619,6 +706,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -630,6 +718,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -651,6 +740,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -662,6 +752,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -683,6 +774,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public void  setMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -694,6 +786,7 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 */
 	public GSM withMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -703,10 +796,20 @@ If a list is provided, the FAP is expected to limit the REM measurement to the A
 	 * @return the value
 	 */
 	public Collection<Cell> getCells() {
-		if (this.cells == null){ this.cells=new ArrayList<>();}
+		if (!(this.cells instanceof InstanceTable)){ this.cells=InstanceTable.of(this.cells);}
 		return cells;
 	}
 
+	/**
+	 * Read the table indicating the components of the discovered cells.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Cell> viewCells() {
+		return cells == null ? Collections.emptyList() : cells;
+	}
+
 	/**
 	 * Set the table indicating the components of the discovered cells.
 	 *
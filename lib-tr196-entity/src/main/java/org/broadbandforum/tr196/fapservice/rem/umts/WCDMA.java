@@ -18,6 +18,7 @@ package org.broadbandforum.tr196.fapservice.rem.umts;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,8 +27,12 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlList;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr196.fapservice.rem.umts.wcdma.Cell;
 
 	/**
@@ -87,6 +92,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 * @since 2.0
 	 */
 	@XmlElement(name = "PeriodicTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicTime;
 	/**
@@ -155,6 +161,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 * @since 2.0
 	 */
 	@XmlElement(name = "LastScanTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "forceDefaultEnabled")
 	public LocalDateTime lastScanTime;
 	/**
@@ -171,6 +178,11 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	@XmlElement(name = "Cell")
 	public Collection<Cell> cells;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public WCDMA() {
 	}
 
@@ -193,6 +205,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -204,6 +217,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withInserviceHandling(String inserviceHandling) {
 		this.inserviceHandling = inserviceHandling;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -225,6 +239,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -236,6 +251,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withScanOnBoot(Boolean scanOnBoot) {
 		this.scanOnBoot = scanOnBoot;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -257,6 +273,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -268,6 +285,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withScanPeriodically(Boolean scanPeriodically) {
 		this.scanPeriodically = scanPeriodically;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -289,6 +307,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -300,6 +319,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withPeriodicInterval(Long periodicInterval) {
 		this.periodicInterval = periodicInterval;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -337,6 +357,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public void  setPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -356,6 +377,7 @@ If absolute time is not available to the CPE, its periodic REM behavior MUST be
 	 */
 	public WCDMA withPeriodicTime(LocalDateTime periodicTime) {
 		this.periodicTime = periodicTime;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -372,6 +394,19 @@ If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is requ
 		return remPLMNList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a PLMN ID to measure. PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC) {{bibref|3GPP-TS.23.003}}, {{bibref|3GPP-TS.24.008}}.
+
+If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is required to scan all available PLMN IDs.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemPLMNList() {
+		return remPLMNList == null ? Collections.emptyList() : remPLMNList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a PLMN ID to measure. PLMN ID consists of Mobile Country Code (MCC) and Mobile Network Code (MNC) {{bibref|3GPP-TS.23.003}}, {{bibref|3GPP-TS.24.008}}.
 
@@ -382,6 +417,7 @@ If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is requ
 	 */
 	public void  setRemPLMNList(Collection<String> remPLMNList) {
 		this.remPLMNList = remPLMNList;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -395,6 +431,7 @@ If {{empty}}, then no specific PLMN ID is provided, meaning that the FAP is requ
 	 */
 	public WCDMA withRemPLMNList(String string) {
 		getRemPLMNList().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -413,6 +450,21 @@ The order of the band indicator has no significance.
 		return remBandList;
 	}
 
+	/**
+	 * Read the {{list}} Each item is a UMTS Band to measure. Each band is identified in by a roman numeral {{bibref|3GPP-TS.25.104}}.
+
+If {{empty}} then no specific UMTS band is provided, meaning that the FAP is required to scan all available bands.
+
+The order of the band indicator has no significance.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewRemBandList() {
+		return remBandList == null ? Collections.emptyList() : remBandList;
+	}
+
 	/**
 	 * Set the {{list}} Each item is a UMTS Band to measure. Each band is identified in by a roman numeral {{bibref|3GPP-TS.25.104}}.
 
@@ -425,6 +477,7 @@ The order of the band indicator has no significance.
 	 */
 	public void  setRemBandList(Collection<String> remBandList) {
 		this.remBandList = remBandList;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -440,6 +493,7 @@ The order of the band indicator has no significance.
 	 */
 	public WCDMA withRemBandList(String string) {
 		getRemBandList().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -456,6 +510,19 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 		return uarFCNDLList;
 	}
 
+	/**
+	 * Read the {{list}} Each entry is a UARFCN in the DL direction to measure.
+
+If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is required to scan all UARFCNs that it is aware of.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewUarFCNDLList() {
+		return uarFCNDLList == null ? Collections.emptyList() : uarFCNDLList;
+	}
+
 	/**
 	 * Set the {{list}} Each entry is a UARFCN in the DL direction to measure.
 
@@ -466,6 +533,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setUarFCNDLList(Collection<String> uarFCNDLList) {
 		this.uarFCNDLList = uarFCNDLList;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -479,6 +547,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withUarFCNDLList(String string) {
 		getUarFCNDLList().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -500,6 +569,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -511,6 +581,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withScanTimeout(Long scanTimeout) {
 		this.scanTimeout = scanTimeout;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -532,6 +603,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -543,6 +615,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withScanStatus(String scanStatus) {
 		this.scanStatus = scanStatus;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -564,6 +637,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -575,6 +649,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withErrorDetails(String errorDetails) {
 		this.errorDetails = errorDetails;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -596,6 +671,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -607,6 +683,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withLastScanTime(LocalDateTime lastScanTime) {
 		this.lastScanTime = lastScanTime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -628,6 +705,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public void  setMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -639,6 +717,7 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 */
 	public WCDMA withMaxCellEntries(Long maxCellEntries) {
 		this.maxCellEntries = maxCellEntries;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -648,10 +727,20 @@ If {{empty}}, then no specific UARFCN is provided, meaning that the FAP is requi
 	 * @return the value
 	 */
 	public Collection<Cell> getCells() {
-		if (this.cells == null){ this.cells=new ArrayList<>();}
+		if (!(this.cells instanceof InstanceTable)){ this.cells=InstanceTable.of(this.cells);}
 		return cells;
 	}
 
+	/**
+	 * Read the table indicating the components of the discovered cells.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Cell> viewCells() {
+		return cells == null ? Collections.emptyList() : cells;
+	}
+
 	/**
 	 * Set the table indicating the components of the discovered cells.
 	 *
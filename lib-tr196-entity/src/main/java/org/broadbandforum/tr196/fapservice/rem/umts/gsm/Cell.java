@@ -23,6 +23,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Table indicating the components of the discovered cells.
@@ -105,6 +107,16 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	@Size(min = -110, max = 48)
 	public Integer rssI;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Cell() {
 	}
 
@@ -127,6 +139,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -138,6 +151,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withBandIndicator(String bandIndicator) {
 		this.bandIndicator = bandIndicator;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -159,6 +173,8 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setArfCN(Long arfCN) {
 		this.arfCN = arfCN;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -170,6 +186,8 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withArfCN(Long arfCN) {
 		this.arfCN = arfCN;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -191,6 +209,8 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -202,6 +222,8 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withBsiC(Long bsiC) {
 		this.bsiC = bsiC;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -235,6 +257,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -252,6 +275,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -273,6 +297,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -284,6 +309,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -305,6 +331,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -316,6 +343,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -337,6 +365,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -348,6 +377,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withCi(Long ci) {
 		this.ci = ci;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -369,6 +399,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public void  setRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -380,6 +411,7 @@ For a 2-digit MNC the total string length of the PLMNID is 5.
 	 */
 	public Cell withRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
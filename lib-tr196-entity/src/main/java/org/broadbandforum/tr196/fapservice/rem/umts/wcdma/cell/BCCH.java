@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.rem.umts.wcdma.cell.bcch.CSGPSCSplitInfo;
 import org.broadbandforum.tr196.fapservice.rem.umts.wcdma.cell.bcch.ReferencePosition;
 
@@ -137,6 +138,11 @@ This information is used to refer to a point on the Earth's surface, or close to
 	@XmlElement(name = "ReferencePosition")
 	public ReferencePosition referencePosition;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public BCCH() {
 	}
 
@@ -159,6 +165,7 @@ This information is used to refer to a point on the Earth's surface, or close to
 	 */
 	public void  setPlmNType(String plmNType) {
 		this.plmNType = plmNType;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -170,6 +177,7 @@ This information is used to refer to a point on the Earth's surface, or close to
 	 */
 	public BCCH withPlmNType(String plmNType) {
 		this.plmNType = plmNType;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -203,6 +211,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -220,6 +229,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public BCCH withPlmNID(String plmNID) {
 		this.plmNID = plmNID;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -241,6 +251,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -252,6 +263,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public BCCH withLac(Long lac) {
 		this.lac = lac;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -273,6 +285,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -284,6 +297,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public BCCH withRac(Long rac) {
 		this.rac = rac;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -305,6 +319,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setCellID(Long cellID) {
 		this.cellID = cellID;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -316,6 +331,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public BCCH withCellID(Long cellID) {
 		this.cellID = cellID;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -337,6 +353,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public void  setPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -348,6 +365,7 @@ For a 2-digit MNC the total string length of {{param}} is 5.
 	 */
 	public BCCH withPcpICHTxPower(Integer pcpICHTxPower) {
 		this.pcpICHTxPower = pcpICHTxPower;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -381,6 +399,7 @@ If {{false}} the CSG-indicator IE is absent, reflecting the access mode as "not
 	 */
 	public void  setCsgIndicator(Boolean csgIndicator) {
 		this.csgIndicator = csgIndicator;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -398,6 +417,7 @@ If {{false}} the CSG-indicator IE is absent, reflecting the access mode as "not
 	 */
 	public BCCH withCsgIndicator(Boolean csgIndicator) {
 		this.csgIndicator = csgIndicator;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -419,6 +439,7 @@ If {{false}} the CSG-indicator IE is absent, reflecting the access mode as "not
 	 */
 	public void  setCsgID(Long csgID) {
 		this.csgID = csgID;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -430,6 +451,7 @@ If {{false}} the CSG-indicator IE is absent, reflecting the access mode as "not
 	 */
 	public BCCH withCsgID(Long csgID) {
 		this.csgID = csgID;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -459,6 +481,7 @@ The corresponding UTRA Absolute Radio Frequency Channel Number (UARFCN} in the U
 	 */
 	public void  setUarFCNDLList(Long uarFCNDLList) {
 		this.uarFCNDLList = uarFCNDLList;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -474,6 +497,7 @@ The corresponding UTRA Absolute Radio Frequency Channel Number (UARFCN} in the U
 	 */
 	public BCCH withUarFCNDLList(Long uarFCNDLList) {
 		this.uarFCNDLList = uarFCNDLList;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * Table indicating the RF aspect of the discovered cells.
@@ -77,6 +78,11 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	@Size(min = 0, max = 511)
 	public Long primaryScramblingCode;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RF() {
 	}
 
@@ -99,6 +105,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public void  setUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -110,6 +117,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public RF withUarFCNDL(Long uarFCNDL) {
 		this.uarFCNDL = uarFCNDL;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -131,6 +139,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public void  setCpiCHRSCP(Integer cpiCHRSCP) {
 		this.cpiCHRSCP = cpiCHRSCP;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -142,6 +151,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public RF withCpiCHRSCP(Integer cpiCHRSCP) {
 		this.cpiCHRSCP = cpiCHRSCP;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -167,6 +177,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public void  setCpiCHEcNo(Integer cpiCHEcNo) {
 		this.cpiCHEcNo = cpiCHEcNo;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -180,6 +191,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public RF withCpiCHEcNo(Integer cpiCHEcNo) {
 		this.cpiCHEcNo = cpiCHEcNo;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -201,6 +213,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public void  setRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -212,6 +225,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public RF withRssI(Integer rssI) {
 		this.rssI = rssI;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -233,6 +247,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public void  setPrimaryScramblingCode(Long primaryScramblingCode) {
 		this.primaryScramblingCode = primaryScramblingCode;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -244,6 +259,7 @@ Actual values of the range are -24.0 dB to 0.0 dB in steps of 0.5 dB. The value
 	 */
 	public RF withPrimaryScramblingCode(Long primaryScramblingCode) {
 		this.primaryScramblingCode = primaryScramblingCode;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
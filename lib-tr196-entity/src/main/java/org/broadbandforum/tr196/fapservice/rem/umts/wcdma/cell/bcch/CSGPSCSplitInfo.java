@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to the Primary Scambling Code (PSC) split information for the CSG. Defined in SIB3/11bis {{bibref|3GPP-TS.25.331|Section 10.3.2.8 and 10.3.2.9}}.
@@ -60,6 +61,11 @@ If this Information Element (IE) is not included, the UE shall consider the seco
 	@Size(min = 0, max = 63)
 	public Long pscRange2Offset;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public CSGPSCSplitInfo() {
 	}
 
@@ -82,6 +88,7 @@ If this Information Element (IE) is not included, the UE shall consider the seco
 	 */
 	public void  setStartPSCRange1Coefficient(Long startPSCRange1Coefficient) {
 		this.startPSCRange1Coefficient = startPSCRange1Coefficient;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -93,6 +100,7 @@ If this Information Element (IE) is not included, the UE shall consider the seco
 	 */
 	public CSGPSCSplitInfo withStartPSCRange1Coefficient(Long startPSCRange1Coefficient) {
 		this.startPSCRange1Coefficient = startPSCRange1Coefficient;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -114,6 +122,7 @@ If this Information Element (IE) is not included, the UE shall consider the seco
 	 */
 	public void  setNumberOfPSCs(String numberOfPSCs) {
 		this.numberOfPSCs = numberOfPSCs;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -125,6 +134,7 @@ If this Information Element (IE) is not included, the UE shall consider the seco
 	 */
 	public CSGPSCSplitInfo withNumberOfPSCs(String numberOfPSCs) {
 		this.numberOfPSCs = numberOfPSCs;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -150,6 +160,7 @@ If this Information Element (IE) is not included, the UE shall consider the seco
 	 */
 	public void  setPscRange2Offset(Long pscRange2Offset) {
 		this.pscRange2Offset = pscRange2Offset;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -163,6 +174,7 @@ If this Information Element (IE) is not included, the UE shall consider the seco
 	 */
 	public CSGPSCSplitInfo withPscRange2Offset(Long pscRange2Offset) {
 		this.pscRange2Offset = pscRange2Offset;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
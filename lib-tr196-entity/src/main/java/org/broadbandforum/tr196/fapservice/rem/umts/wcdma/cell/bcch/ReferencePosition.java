@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object defines parameters related to the surface point of the ellipsoid. {{bibref|3GPP-TS.23.032|Section 5}}
@@ -114,6 +115,11 @@ Where 'a' is the orientation in degrees (0..179).
 	@Size(min = 0, max = 100)
 	public Long confidence;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ReferencePosition() {
 	}
 
@@ -148,6 +154,7 @@ If 0 then SIB15 is not detected in the specific cell.
 	 */
 	public void  setLatitude(Integer latitude) {
 		this.latitude = latitude;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -165,6 +172,7 @@ If 0 then SIB15 is not detected in the specific cell.
 	 */
 	public ReferencePosition withLatitude(Integer latitude) {
 		this.latitude = latitude;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -198,6 +206,7 @@ If 0 then SIB15 is not detected in the specific cell.
 	 */
 	public void  setLongitude(Integer longitude) {
 		this.longitude = longitude;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -215,6 +224,7 @@ If 0 then SIB15 is not detected in the specific cell.
 	 */
 	public ReferencePosition withLongitude(Integer longitude) {
 		this.longitude = longitude;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -244,6 +254,7 @@ r = 10 x ( 1.1 <power> (k-1) )
 	 */
 	public void  setUncertaintySemiMajor(Long uncertaintySemiMajor) {
 		this.uncertaintySemiMajor = uncertaintySemiMajor;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -259,6 +270,7 @@ r = 10 x ( 1.1 <power> (k-1) )
 	 */
 	public ReferencePosition withUncertaintySemiMajor(Long uncertaintySemiMajor) {
 		this.uncertaintySemiMajor = uncertaintySemiMajor;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -288,6 +300,7 @@ r = 10 x ( 1.1 <power> (k-1) )
 	 */
 	public void  setUncertaintySemiMinor(Long uncertaintySemiMinor) {
 		this.uncertaintySemiMinor = uncertaintySemiMinor;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -303,6 +316,7 @@ r = 10 x ( 1.1 <power> (k-1) )
 	 */
 	public ReferencePosition withUncertaintySemiMinor(Long uncertaintySemiMinor) {
 		this.uncertaintySemiMinor = uncertaintySemiMinor;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -332,6 +346,7 @@ Where 'a' is the orientation in degrees (0..179).
 	 */
 	public void  setOrientationOfMajorAxis(Long orientationOfMajorAxis) {
 		this.orientationOfMajorAxis = orientationOfMajorAxis;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -347,6 +362,7 @@ Where 'a' is the orientation in degrees (0..179).
 	 */
 	public ReferencePosition withOrientationOfMajorAxis(Long orientationOfMajorAxis) {
 		this.orientationOfMajorAxis = orientationOfMajorAxis;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -368,6 +384,7 @@ Where 'a' is the orientation in degrees (0..179).
 	 */
 	public void  setConfidence(Long confidence) {
 		this.confidence = confidence;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -379,6 +396,7 @@ Where 'a' is the orientation in degrees (0..179).
 	 */
 	public ReferencePosition withConfidence(Long confidence) {
 		this.confidence = confidence;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
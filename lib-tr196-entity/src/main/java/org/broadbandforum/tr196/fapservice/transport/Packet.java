@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters relating to Packet Transport using GTP-U.
@@ -59,6 +60,11 @@ public class Packet {
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long rcvPackets;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Packet() {
 	}
 
@@ -81,6 +87,7 @@ public class Packet {
 	 */
 	public void  setEchoInterval(Long echoInterval) {
 		this.echoInterval = echoInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -92,6 +99,7 @@ public class Packet {
 	 */
 	public Packet withEchoInterval(Long echoInterval) {
 		this.echoInterval = echoInterval;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -113,6 +121,7 @@ public class Packet {
 	 */
 	public void  setSentPackets(Long sentPackets) {
 		this.sentPackets = sentPackets;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -124,6 +133,7 @@ public class Packet {
 	 */
 	public Packet withSentPackets(Long sentPackets) {
 		this.sentPackets = sentPackets;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -145,6 +155,7 @@ public class Packet {
 	 */
 	public void  setRcvPackets(Long rcvPackets) {
 		this.rcvPackets = rcvPackets;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -156,6 +167,7 @@ public class Packet {
 	 */
 	public Packet withRcvPackets(Long rcvPackets) {
 		this.rcvPackets = rcvPackets;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr196.fapservice.transport.realtime.Perf;
 
 	/**
@@ -81,6 +82,11 @@ public class RealTime {
 	@XmlElement(name = "Perf")
 	public Perf perf;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public RealTime() {
 	}
 
@@ -103,6 +109,7 @@ public class RealTime {
 	 */
 	public void  setRtcPEnable(Boolean rtcPEnable) {
 		this.rtcPEnable = rtcPEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -114,6 +121,7 @@ public class RealTime {
 	 */
 	public RealTime withRtcPEnable(Boolean rtcPEnable) {
 		this.rtcPEnable = rtcPEnable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -135,6 +143,7 @@ public class RealTime {
 	 */
 	public void  setSentPackets(Long sentPackets) {
 		this.sentPackets = sentPackets;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -146,6 +155,7 @@ public class RealTime {
 	 */
 	public RealTime withSentPackets(Long sentPackets) {
 		this.sentPackets = sentPackets;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -167,6 +177,7 @@ public class RealTime {
 	 */
 	public void  setRcvPackets(Long rcvPackets) {
 		this.rcvPackets = rcvPackets;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -178,6 +189,7 @@ public class RealTime {
 	 */
 	public RealTime withRcvPackets(Long rcvPackets) {
 		this.rcvPackets = rcvPackets;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -199,6 +211,7 @@ public class RealTime {
 	 */
 	public void  setBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -210,6 +223,7 @@ public class RealTime {
 	 */
 	public RealTime withBytesSent(Long bytesSent) {
 		this.bytesSent = bytesSent;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -231,6 +245,7 @@ public class RealTime {
 	 */
 	public void  setBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -242,6 +257,7 @@ public class RealTime {
 	 */
 	public RealTime withBytesReceived(Long bytesReceived) {
 		this.bytesReceived = bytesReceived;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
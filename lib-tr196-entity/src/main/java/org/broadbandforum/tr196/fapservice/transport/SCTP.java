@@ -16,8 +16,8 @@
 package org.broadbandforum.tr196.fapservice.transport;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -25,8 +25,12 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 import org.broadbandforum.tr196.fapservice.transport.sctp.Assoc;
 
 	/**
@@ -219,6 +223,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 * @since 2.0
 	 */
 	@XmlElement(name = "Discontinuity")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime discontinuity;
 	/**
 	 * SCTP Association Table
@@ -227,6 +232,11 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	@XmlElement(name = "Assoc")
 	public Collection<Assoc> assocs;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public SCTP() {
 	}
 
@@ -249,6 +259,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -260,6 +271,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -281,6 +293,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setHbinterval(Long hbinterval) {
 		this.hbinterval = hbinterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -292,6 +305,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withHbinterval(Long hbinterval) {
 		this.hbinterval = hbinterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -313,6 +327,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setMaxAssociationRetransmits(Long maxAssociationRetransmits) {
 		this.maxAssociationRetransmits = maxAssociationRetransmits;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -324,6 +339,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withMaxAssociationRetransmits(Long maxAssociationRetransmits) {
 		this.maxAssociationRetransmits = maxAssociationRetransmits;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -345,6 +361,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setMaxInitRetransmits(Long maxInitRetransmits) {
 		this.maxInitRetransmits = maxInitRetransmits;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -356,6 +373,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withMaxInitRetransmits(Long maxInitRetransmits) {
 		this.maxInitRetransmits = maxInitRetransmits;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -377,6 +395,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setMaxPathRetransmits(Long maxPathRetransmits) {
 		this.maxPathRetransmits = maxPathRetransmits;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -388,6 +407,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withMaxPathRetransmits(Long maxPathRetransmits) {
 		this.maxPathRetransmits = maxPathRetransmits;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -409,6 +429,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setRtoInitial(Long rtoInitial) {
 		this.rtoInitial = rtoInitial;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -420,6 +441,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withRtoInitial(Long rtoInitial) {
 		this.rtoInitial = rtoInitial;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -441,6 +463,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setRtoMax(Long rtoMax) {
 		this.rtoMax = rtoMax;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -452,6 +475,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withRtoMax(Long rtoMax) {
 		this.rtoMax = rtoMax;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -477,6 +501,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setRtoMin(Long rtoMin) {
 		this.rtoMin = rtoMin;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -490,6 +515,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withRtoMin(Long rtoMin) {
 		this.rtoMin = rtoMin;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -511,6 +537,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setValCookieLife(Long valCookieLife) {
 		this.valCookieLife = valCookieLife;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -522,6 +549,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withValCookieLife(Long valCookieLife) {
 		this.valCookieLife = valCookieLife;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -543,6 +571,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setOutOfBlues(Long outOfBlues) {
 		this.outOfBlues = outOfBlues;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -554,6 +583,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withOutOfBlues(Long outOfBlues) {
 		this.outOfBlues = outOfBlues;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -575,6 +605,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setChecksumErrors(Long checksumErrors) {
 		this.checksumErrors = checksumErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -586,6 +617,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withChecksumErrors(Long checksumErrors) {
 		this.checksumErrors = checksumErrors;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -607,6 +639,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setOutCtrlChunks(Long outCtrlChunks) {
 		this.outCtrlChunks = outCtrlChunks;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -618,6 +651,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withOutCtrlChunks(Long outCtrlChunks) {
 		this.outCtrlChunks = outCtrlChunks;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -639,6 +673,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setOutOrderChunks(Long outOrderChunks) {
 		this.outOrderChunks = outOrderChunks;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -650,6 +685,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withOutOrderChunks(Long outOrderChunks) {
 		this.outOrderChunks = outOrderChunks;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -671,6 +707,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setOutUnorderChunks(Long outUnorderChunks) {
 		this.outUnorderChunks = outUnorderChunks;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -682,6 +719,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withOutUnorderChunks(Long outUnorderChunks) {
 		this.outUnorderChunks = outUnorderChunks;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -703,6 +741,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setInctrlChunks(Long inctrlChunks) {
 		this.inctrlChunks = inctrlChunks;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -714,6 +753,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withInctrlChunks(Long inctrlChunks) {
 		this.inctrlChunks = inctrlChunks;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -735,6 +775,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setInorderChunks(Long inorderChunks) {
 		this.inorderChunks = inorderChunks;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -746,6 +787,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withInorderChunks(Long inorderChunks) {
 		this.inorderChunks = inorderChunks;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -767,6 +809,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setInunorderChunks(Long inunorderChunks) {
 		this.inunorderChunks = inunorderChunks;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -778,6 +821,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withInunorderChunks(Long inunorderChunks) {
 		this.inunorderChunks = inunorderChunks;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -799,6 +843,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setFragUsrMsgs(Long fragUsrMsgs) {
 		this.fragUsrMsgs = fragUsrMsgs;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -810,6 +855,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withFragUsrMsgs(Long fragUsrMsgs) {
 		this.fragUsrMsgs = fragUsrMsgs;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -831,6 +877,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setReasmUsrMsgs(Long reasmUsrMsgs) {
 		this.reasmUsrMsgs = reasmUsrMsgs;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -842,6 +889,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withReasmUsrMsgs(Long reasmUsrMsgs) {
 		this.reasmUsrMsgs = reasmUsrMsgs;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -863,6 +911,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setOutSCTPPacks(Long outSCTPPacks) {
 		this.outSCTPPacks = outSCTPPacks;
+		if (this.dirty != null){ this.dirty.set(19);}
 	}
 
 	/**
@@ -874,6 +923,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withOutSCTPPacks(Long outSCTPPacks) {
 		this.outSCTPPacks = outSCTPPacks;
+		if (this.dirty != null){ this.dirty.set(19);}
 		return this;
 	}
 
@@ -895,6 +945,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setInsCTPPacks(Long insCTPPacks) {
 		this.insCTPPacks = insCTPPacks;
+		if (this.dirty != null){ this.dirty.set(20);}
 	}
 
 	/**
@@ -906,6 +957,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withInsCTPPacks(Long insCTPPacks) {
 		this.insCTPPacks = insCTPPacks;
+		if (this.dirty != null){ this.dirty.set(20);}
 		return this;
 	}
 
@@ -927,6 +979,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public void  setDiscontinuity(LocalDateTime discontinuity) {
 		this.discontinuity = discontinuity;
+		if (this.dirty != null){ this.dirty.set(21);}
 	}
 
 	/**
@@ -938,6 +991,7 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 */
 	public SCTP withDiscontinuity(LocalDateTime discontinuity) {
 		this.discontinuity = discontinuity;
+		if (this.dirty != null){ this.dirty.set(21);}
 		return this;
 	}
 
@@ -947,10 +1001,20 @@ The value of this parameter MUST be lower than or equal to {{param|RTOMax}}.
 	 * @return the value
 	 */
 	public Collection<Assoc> getAssocs() {
-		if (this.assocs == null){ this.assocs=new ArrayList<>();}
+		if (!(this.assocs instanceof InstanceTable)){ this.assocs=InstanceTable.of(this.assocs);}
 		return assocs;
 	}
 
+	/**
+	 * Read the sctP Association Table
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Assoc> viewAssocs() {
+		return assocs == null ? Collections.emptyList() : assocs;
+	}
+
 	/**
 	 * Set the sctP Association Table
 	 *
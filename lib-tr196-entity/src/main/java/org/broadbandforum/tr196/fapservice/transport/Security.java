@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr196.fapservice.transport;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr196.fapservice.transport.security.Secret;
 
 	/**
@@ -56,10 +57,20 @@ public class Security {
 	 * @return the value
 	 */
 	public Collection<Secret> getSecrets() {
-		if (this.secrets == null){ this.secrets=new ArrayList<>();}
+		if (!(this.secrets instanceof InstanceTable)){ this.secrets=InstanceTable.of(this.secrets);}
 		return secrets;
 	}
 
+	/**
+	 * Read the shared Secret Table. This table gathers information about all types of shared secret-based credentials (UICC).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Secret> viewSecrets() {
+		return secrets == null ? Collections.emptyList() : secrets;
+	}
+
 	/**
 	 * Set the shared Secret Table. This table gathers information about all types of shared secret-based credentials (UICC).
 	 *
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains performances relating to Real Time Transport using RTP.
@@ -115,6 +116,11 @@ public class Perf {
 	@CWMPParameter(activeNotify = "canDeny", units = "microseconds")
 	public Long maxFarEndJitter;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Perf() {
 	}
 
@@ -137,6 +143,7 @@ public class Perf {
 	 */
 	public void  setLostRcvPackets(Long lostRcvPackets) {
 		this.lostRcvPackets = lostRcvPackets;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -148,6 +155,7 @@ public class Perf {
 	 */
 	public Perf withLostRcvPackets(Long lostRcvPackets) {
 		this.lostRcvPackets = lostRcvPackets;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -169,6 +177,7 @@ public class Perf {
 	 */
 	public void  setLostFarEndPackets(Long lostFarEndPackets) {
 		this.lostFarEndPackets = lostFarEndPackets;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -180,6 +189,7 @@ public class Perf {
 	 */
 	public Perf withLostFarEndPackets(Long lostFarEndPackets) {
 		this.lostFarEndPackets = lostFarEndPackets;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -201,6 +211,7 @@ public class Perf {
 	 */
 	public void  setOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -212,6 +223,7 @@ public class Perf {
 	 */
 	public Perf withOverruns(Long overruns) {
 		this.overruns = overruns;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -233,6 +245,7 @@ public class Perf {
 	 */
 	public void  setUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -244,6 +257,7 @@ public class Perf {
 	 */
 	public Perf withUnderruns(Long underruns) {
 		this.underruns = underruns;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -265,6 +279,7 @@ public class Perf {
 	 */
 	public void  setMeanRTT(Long meanRTT) {
 		this.meanRTT = meanRTT;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -276,6 +291,7 @@ public class Perf {
 	 */
 	public Perf withMeanRTT(Long meanRTT) {
 		this.meanRTT = meanRTT;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -297,6 +313,7 @@ public class Perf {
 	 */
 	public void  setMaxRTT(Long maxRTT) {
 		this.maxRTT = maxRTT;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -308,6 +325,7 @@ public class Perf {
 	 */
 	public Perf withMaxRTT(Long maxRTT) {
 		this.maxRTT = maxRTT;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -329,6 +347,7 @@ public class Perf {
 	 */
 	public void  setMeanReceiveJitter(Long meanReceiveJitter) {
 		this.meanReceiveJitter = meanReceiveJitter;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -340,6 +359,7 @@ public class Perf {
 	 */
 	public Perf withMeanReceiveJitter(Long meanReceiveJitter) {
 		this.meanReceiveJitter = meanReceiveJitter;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -361,6 +381,7 @@ public class Perf {
 	 */
 	public void  setMaxReceiveJitter(Long maxReceiveJitter) {
 		this.maxReceiveJitter = maxReceiveJitter;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -372,6 +393,7 @@ public class Perf {
 	 */
 	public Perf withMaxReceiveJitter(Long maxReceiveJitter) {
 		this.maxReceiveJitter = maxReceiveJitter;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -393,6 +415,7 @@ public class Perf {
 	 */
 	public void  setMeanFarEndJitter(Long meanFarEndJitter) {
 		this.meanFarEndJitter = meanFarEndJitter;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -404,6 +427,7 @@ public class Perf {
 	 */
 	public Perf withMeanFarEndJitter(Long meanFarEndJitter) {
 		this.meanFarEndJitter = meanFarEndJitter;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -425,6 +449,7 @@ public class Perf {
 	 */
 	public void  setMaxFarEndJitter(Long maxFarEndJitter) {
 		this.maxFarEndJitter = maxFarEndJitter;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -436,6 +461,7 @@ public class Perf {
 	 */
 	public Perf withMaxFarEndJitter(Long maxFarEndJitter) {
 		this.maxFarEndJitter = maxFarEndJitter;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * SCTP Association Table
@@ -84,6 +88,7 @@ public class Assoc {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "StartTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime startTime;
 	/**
@@ -92,9 +97,20 @@ public class Assoc {
 	 * @since 2.0
 	 */
 	@XmlElement(name = "Discontinuity")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(activeNotify = "canDeny")
 	public LocalDateTime discontinuity;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Assoc() {
 	}
 
@@ -117,6 +133,7 @@ public class Assoc {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -128,6 +145,7 @@ public class Assoc {
 	 */
 	public Assoc withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -149,6 +167,8 @@ public class Assoc {
 	 */
 	public void  setPrimaryPeerAddress(IPAddress primaryPeerAddress) {
 		this.primaryPeerAddress = primaryPeerAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -160,6 +180,8 @@ public class Assoc {
 	 */
 	public Assoc withPrimaryPeerAddress(IPAddress primaryPeerAddress) {
 		this.primaryPeerAddress = primaryPeerAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -181,6 +203,8 @@ public class Assoc {
 	 */
 	public void  setLocalPort(Long localPort) {
 		this.localPort = localPort;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -192,6 +216,8 @@ public class Assoc {
 	 */
 	public Assoc withLocalPort(Long localPort) {
 		this.localPort = localPort;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -213,6 +239,7 @@ public class Assoc {
 	 */
 	public void  setInstreams(Long instreams) {
 		this.instreams = instreams;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -224,6 +251,7 @@ public class Assoc {
 	 */
 	public Assoc withInstreams(Long instreams) {
 		this.instreams = instreams;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -245,6 +273,7 @@ public class Assoc {
 	 */
 	public void  setOutStreams(Long outStreams) {
 		this.outStreams = outStreams;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -256,6 +285,7 @@ public class Assoc {
 	 */
 	public Assoc withOutStreams(Long outStreams) {
 		this.outStreams = outStreams;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -277,6 +307,7 @@ public class Assoc {
 	 */
 	public void  setStartTime(LocalDateTime startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -288,6 +319,7 @@ public class Assoc {
 	 */
 	public Assoc withStartTime(LocalDateTime startTime) {
 		this.startTime = startTime;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -309,6 +341,7 @@ public class Assoc {
 	 */
 	public void  setDiscontinuity(LocalDateTime discontinuity) {
 		this.discontinuity = discontinuity;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -320,6 +353,7 @@ public class Assoc {
 	 */
 	public Assoc withDiscontinuity(LocalDateTime discontinuity) {
 		this.discontinuity = discontinuity;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -17,6 +17,7 @@ package org.broadbandforum.tr196.fapservice.transport.sip;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -26,6 +27,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object models SIP Femtocell Convergence Server (FCS) parameters.
@@ -223,6 +225,11 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	@Size(min = 1, max = 20)
 	public Long t3210;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public FCS() {
 	}
 
@@ -249,6 +256,7 @@ The device MUST support SIP URI and MAY support other URI schemes.
 	 */
 	public void  setFcsURI(String fcsURI) {
 		this.fcsURI = fcsURI;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -262,6 +270,7 @@ The device MUST support SIP URI and MAY support other URI schemes.
 	 */
 	public FCS withFcsURI(String fcsURI) {
 		this.fcsURI = fcsURI;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -287,6 +296,7 @@ The device MUST support SIP URI and MAY support other URI schemes.
 	 */
 	public void  setOutGoingProxyURI(String outGoingProxyURI) {
 		this.outGoingProxyURI = outGoingProxyURI;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -300,6 +310,7 @@ The device MUST support SIP URI and MAY support other URI schemes.
 	 */
 	public FCS withOutGoingProxyURI(String outGoingProxyURI) {
 		this.outGoingProxyURI = outGoingProxyURI;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -325,6 +336,7 @@ This header is generated by the device. See {{bibref|3GPP2-X.S0059}} and {{bibre
 	 */
 	public void  setPaccessNetInfoHeader(String paccessNetInfoHeader) {
 		this.paccessNetInfoHeader = paccessNetInfoHeader;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -338,6 +350,7 @@ This header is generated by the device. See {{bibref|3GPP2-X.S0059}} and {{bibre
 	 */
 	public FCS withPaccessNetInfoHeader(String paccessNetInfoHeader) {
 		this.paccessNetInfoHeader = paccessNetInfoHeader;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -363,6 +376,7 @@ The request URI for REGISTER will be formed by prefixing "sip:" to this value.
 	 */
 	public void  setRealm(String realm) {
 		this.realm = realm;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -376,6 +390,7 @@ The request URI for REGISTER will be formed by prefixing "sip:" to this value.
 	 */
 	public FCS withRealm(String realm) {
 		this.realm = realm;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -397,6 +412,7 @@ The request URI for REGISTER will be formed by prefixing "sip:" to this value.
 	 */
 	public void  setImpU(String impU) {
 		this.impU = impU;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -408,6 +424,7 @@ The request URI for REGISTER will be formed by prefixing "sip:" to this value.
 	 */
 	public FCS withImpU(String impU) {
 		this.impU = impU;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -433,6 +450,7 @@ This value is ignored when {{param|SIPAuthMethod}} is set to {{enum|TNA|SIPAuthM
 	 */
 	public void  setImpI(String impI) {
 		this.impI = impI;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -446,6 +464,7 @@ This value is ignored when {{param|SIPAuthMethod}} is set to {{enum|TNA|SIPAuthM
 	 */
 	public FCS withImpI(String impI) {
 		this.impI = impI;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -471,6 +490,7 @@ This value is ignored when {{param|SIPAuthMethod}} is set to {{enum|TNA|SIPAuthM
 	 */
 	public void  setSipPassword(String sipPassword) {
 		this.sipPassword = sipPassword;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -484,6 +504,7 @@ This value is ignored when {{param|SIPAuthMethod}} is set to {{enum|TNA|SIPAuthM
 	 */
 	public FCS withSipPassword(String sipPassword) {
 		this.sipPassword = sipPassword;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -498,6 +519,17 @@ This value is ignored when {{param|SIPAuthMethod}} is set to {{enum|TNA|SIPAuthM
 		return sipAuthCapability;
 	}
 
+	/**
+	 * Read the represents the SIP authentication mechanisms supported by this device.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewSipAuthCapability() {
+		return sipAuthCapability == null ? Collections.emptyList() : sipAuthCapability;
+	}
+
 	/**
 	 * Set the represents the SIP authentication mechanisms supported by this device.
 	 *
@@ -506,6 +538,7 @@ This value is ignored when {{param|SIPAuthMethod}} is set to {{enum|TNA|SIPAuthM
 	 */
 	public void  setSipAuthCapability(Collection<String> sipAuthCapability) {
 		this.sipAuthCapability = sipAuthCapability;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -517,6 +550,7 @@ This value is ignored when {{param|SIPAuthMethod}} is set to {{enum|TNA|SIPAuthM
 	 */
 	public FCS withSipAuthCapability(String string) {
 		getSipAuthCapability().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -546,6 +580,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setSipAuthMethod(String sipAuthMethod) {
 		this.sipAuthMethod = sipAuthMethod;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -561,6 +596,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withSipAuthMethod(String sipAuthMethod) {
 		this.sipAuthMethod = sipAuthMethod;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -582,6 +618,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setSipLocalPort(Long sipLocalPort) {
 		this.sipLocalPort = sipLocalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -593,6 +630,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withSipLocalPort(Long sipLocalPort) {
 		this.sipLocalPort = sipLocalPort;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -614,6 +652,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setRtpPortLowLimit(Long rtpPortLowLimit) {
 		this.rtpPortLowLimit = rtpPortLowLimit;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -625,6 +664,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withRtpPortLowLimit(Long rtpPortLowLimit) {
 		this.rtpPortLowLimit = rtpPortLowLimit;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -646,6 +686,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setRtpPortHighLimit(Long rtpPortHighLimit) {
 		this.rtpPortHighLimit = rtpPortHighLimit;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -657,6 +698,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withRtpPortHighLimit(Long rtpPortHighLimit) {
 		this.rtpPortHighLimit = rtpPortHighLimit;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -678,6 +720,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setSipRegExpiry(Long sipRegExpiry) {
 		this.sipRegExpiry = sipRegExpiry;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -689,6 +732,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withSipRegExpiry(Long sipRegExpiry) {
 		this.sipRegExpiry = sipRegExpiry;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -710,6 +754,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setSipSessionExpiry(Long sipSessionExpiry) {
 		this.sipSessionExpiry = sipSessionExpiry;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -721,6 +766,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withSipSessionExpiry(Long sipSessionExpiry) {
 		this.sipSessionExpiry = sipSessionExpiry;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -735,6 +781,17 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 		return emergencyNumbersList;
 	}
 
+	/**
+	 * Read the indicates the dialed digit pattern matching strings used to determine if the call is an emergency call that MAY bypass access control and receive priority treatment.
+	 *
+	 * @since 2.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEmergencyNumbersList() {
+		return emergencyNumbersList == null ? Collections.emptyList() : emergencyNumbersList;
+	}
+
 	/**
 	 * Set the indicates the dialed digit pattern matching strings used to determine if the call is an emergency call that MAY bypass access control and receive priority treatment.
 	 *
@@ -743,6 +800,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setEmergencyNumbersList(Collection<String> emergencyNumbersList) {
 		this.emergencyNumbersList = emergencyNumbersList;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -754,6 +812,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withEmergencyNumbersList(String string) {
 		getEmergencyNumbersList().add(string);
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -775,6 +834,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setTimerT1(Long timerT1) {
 		this.timerT1 = timerT1;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -786,6 +846,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withTimerT1(Long timerT1) {
 		this.timerT1 = timerT1;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -807,6 +868,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setTimerT2(Long timerT2) {
 		this.timerT2 = timerT2;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -818,6 +880,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withTimerT2(Long timerT2) {
 		this.timerT2 = timerT2;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -839,6 +902,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setTimerT4(Long timerT4) {
 		this.timerT4 = timerT4;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -850,6 +914,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withTimerT4(Long timerT4) {
 		this.timerT4 = timerT4;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -871,6 +936,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public void  setT3210(Long t3210) {
 		this.t3210 = t3210;
+		if (this.dirty != null){ this.dirty.set(18);}
 	}
 
 	/**
@@ -882,6 +948,7 @@ If value is {{enum|TNA}}, {{param|SIPPassword}} and {{param|IMPI}} are ignored.
 	 */
 	public FCS withT3210(Long t3210) {
 		this.t3210 = t3210;
+		if (this.dirty != null){ this.dirty.set(18);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr262.fap.applicationplatform.Capabilities;
 import org.broadbandforum.tr262.fap.applicationplatform.Control;
 import org.broadbandforum.tr262.fap.applicationplatform.Monitoring;
@@ -103,6 +104,11 @@ public class ApplicationPlatform {
 	@XmlElement(name = "Monitoring")
 	public Monitoring monitoring;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public ApplicationPlatform() {
 	}
 
@@ -125,6 +131,7 @@ public class ApplicationPlatform {
 	 */
 	public void  setVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +143,7 @@ public class ApplicationPlatform {
 	 */
 	public ApplicationPlatform withVersion(String version) {
 		this.version = version;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -157,6 +165,7 @@ public class ApplicationPlatform {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -168,6 +177,7 @@ public class ApplicationPlatform {
 	 */
 	public ApplicationPlatform withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -189,6 +199,7 @@ public class ApplicationPlatform {
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -200,6 +211,7 @@ public class ApplicationPlatform {
 	 */
 	public ApplicationPlatform withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -221,6 +233,7 @@ public class ApplicationPlatform {
 	 */
 	public void  setMaxNumberOfApplications(Long maxNumberOfApplications) {
 		this.maxNumberOfApplications = maxNumberOfApplications;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -232,6 +245,7 @@ public class ApplicationPlatform {
 	 */
 	public ApplicationPlatform withMaxNumberOfApplications(Long maxNumberOfApplications) {
 		this.maxNumberOfApplications = maxNumberOfApplications;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -253,6 +267,7 @@ public class ApplicationPlatform {
 	 */
 	public void  setCurrentNumberofApplications(Long currentNumberofApplications) {
 		this.currentNumberofApplications = currentNumberofApplications;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -264,6 +279,7 @@ public class ApplicationPlatform {
 	 */
 	public ApplicationPlatform withCurrentNumberofApplications(Long currentNumberofApplications) {
 		this.currentNumberofApplications = currentNumberofApplications;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr262.fap;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr262.fap.perfmgmt.Config;
 
 	/**
@@ -56,10 +57,20 @@ public class PerfMgmt {
 	 * @return the value
 	 */
 	public Collection<Config> getConfigs() {
-		if (this.configs == null){ this.configs=new ArrayList<>();}
+		if (!(this.configs instanceof InstanceTable)){ this.configs=InstanceTable.of(this.configs);}
 		return configs;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to File Management configuration for uploading of Performance Files to a designated File Server. Each table entry can be referenced by zero or more radio-specific objects contained in the FAPService instances. The periodic upload will upload data for all of the radio-specific objects that reference it.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<Config> viewConfigs() {
+		return configs == null ? Collections.emptyList() : configs;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to File Management configuration for uploading of Performance Files to a designated File Server. Each table entry can be referenced by zero or more radio-specific objects contained in the FAPService instances. The periodic upload will upload data for all of the radio-specific objects that reference it.
 	 *
@@ -15,8 +15,8 @@
  */
 package org.broadbandforum.tr262.fap;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -25,6 +25,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 import org.broadbandforum.tr262.fap.tunnel.ChildSA;
 import org.broadbandforum.tr262.fap.tunnel.CryptoProfile;
 import org.broadbandforum.tr262.fap.tunnel.IKESA;
@@ -103,6 +105,11 @@ For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	@CWMPParameter(access = "readWrite")
 	public Collection<VirtualInterface> virtualInterfaces;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Tunnel() {
 	}
 
@@ -125,6 +132,7 @@ For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setMaxVirtualInterfaces(Long maxVirtualInterfaces) {
 		this.maxVirtualInterfaces = maxVirtualInterfaces;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -136,6 +144,7 @@ For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public Tunnel withMaxVirtualInterfaces(Long maxVirtualInterfaces) {
 		this.maxVirtualInterfaces = maxVirtualInterfaces;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -165,6 +174,7 @@ If {{true}} then the CWMP traffic will be sent across the IPsec tunnel(s).
 	 */
 	public void  setUseForCWMP(Boolean useForCWMP) {
 		this.useForCWMP = useForCWMP;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -180,6 +190,7 @@ If {{true}} then the CWMP traffic will be sent across the IPsec tunnel(s).
 	 */
 	public Tunnel withUseForCWMP(Boolean useForCWMP) {
 		this.useForCWMP = useForCWMP;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -201,6 +212,7 @@ If {{true}} then the CWMP traffic will be sent across the IPsec tunnel(s).
 	 */
 	public void  setMaxChildSAPerIKE(Long maxChildSAPerIKE) {
 		this.maxChildSAPerIKE = maxChildSAPerIKE;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -212,6 +224,7 @@ If {{true}} then the CWMP traffic will be sent across the IPsec tunnel(s).
 	 */
 	public Tunnel withMaxChildSAPerIKE(Long maxChildSAPerIKE) {
 		this.maxChildSAPerIKE = maxChildSAPerIKE;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -233,6 +246,7 @@ If {{true}} then the CWMP traffic will be sent across the IPsec tunnel(s).
 	 */
 	public void  setMaxIKESessions(Long maxIKESessions) {
 		this.maxIKESessions = maxIKESessions;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -244,6 +258,7 @@ If {{true}} then the CWMP traffic will be sent across the IPsec tunnel(s).
 	 */
 	public Tunnel withMaxIKESessions(Long maxIKESessions) {
 		this.maxIKESessions = maxIKESessions;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -255,10 +270,22 @@ For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 * @return the value
 	 */
 	public Collection<CryptoProfile> getCryptoProfiles() {
-		if (this.cryptoProfiles == null){ this.cryptoProfiles=new ArrayList<>();}
+		if (!(this.cryptoProfiles instanceof InstanceTable)){ this.cryptoProfiles=InstanceTable.of(this.cryptoProfiles);}
 		return cryptoProfiles;
 	}
 
+	/**
+	 * Read the this object contains parameters relating to IKEv2 and IPsec crypto profiles, which are essentially a subset of the typical IPsec SPD. {{bibref|RFC4301}}.
+
+For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<CryptoProfile> viewCryptoProfiles() {
+		return cryptoProfiles == null ? Collections.emptyList() : cryptoProfiles;
+	}
+
 	/**
 	 * Set the this object contains parameters relating to IKEv2 and IPsec crypto profiles, which are essentially a subset of the typical IPsec SPD. {{bibref|RFC4301}}.
 
@@ -289,10 +316,20 @@ For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 * @return the value
 	 */
 	public Collection<IKESA> getIkeSAs() {
-		if (this.ikeSAs == null){ this.ikeSAs=new ArrayList<>();}
+		if (!(this.ikeSAs instanceof InstanceTable)){ this.ikeSAs=InstanceTable.of(this.ikeSAs);}
 		return ikeSAs;
 	}
 
+	/**
+	 * Read the ike IPsec Security Association Table. This Table is a member of the IPsec Security Association Database (SAD). {{bibref|RFC4301}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<IKESA> viewIkeSAs() {
+		return ikeSAs == null ? Collections.emptyList() : ikeSAs;
+	}
+
 	/**
 	 * Set the ike IPsec Security Association Table. This Table is a member of the IPsec Security Association Database (SAD). {{bibref|RFC4301}}.
 	 *
@@ -319,10 +356,20 @@ For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 * @return the value
 	 */
 	public Collection<ChildSA> getChildSAs() {
-		if (this.childSAs == null){ this.childSAs=new ArrayList<>();}
+		if (!(this.childSAs instanceof InstanceTable)){ this.childSAs=InstanceTable.of(this.childSAs);}
 		return childSAs;
 	}
 
+	/**
+	 * Read the child IPsec Security Association Table.  This Table is a member of the IPsec Security Association Database (SAD). {{bibref|RFC4301}}.
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<ChildSA> viewChildSAs() {
+		return childSAs == null ? Collections.emptyList() : childSAs;
+	}
+
 	/**
 	 * Set the child IPsec Security Association Table.  This Table is a member of the IPsec Security Association Database (SAD). {{bibref|RFC4301}}.
 	 *
@@ -349,10 +396,20 @@ For Cdma2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 * @return the value
 	 */
 	public Collection<VirtualInterface> getVirtualInterfaces() {
-		if (this.virtualInterfaces == null){ this.virtualInterfaces=new ArrayList<>();}
+		if (!(this.virtualInterfaces instanceof InstanceTable)){ this.virtualInterfaces=InstanceTable.of(this.virtualInterfaces);}
 		return virtualInterfaces;
 	}
 
+	/**
+	 * Read the virtual Interfaces used for associating the tunnel (ephemeral) childSA pairs with QoS Classification and Queue tables as defined in {{bibref|TR-098a2}} (InternetGatewayDevice.QueueManagement.Classification.{i}. and InternetGatewayDevice.QueueManagement.Queue.{i}.) or {{bibref|TR-181i2}} (Device.QoS.Classification.{i}. and Device.QoS.Queue.{i}.).
+	 *
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<VirtualInterface> viewVirtualInterfaces() {
+		return virtualInterfaces == null ? Collections.emptyList() : virtualInterfaces;
+	}
+
 	/**
 	 * Set the virtual Interfaces used for associating the tunnel (ephemeral) childSA pairs with QoS Classification and Queue tables as defined in {{bibref|TR-098a2}} (InternetGatewayDevice.QueueManagement.Classification.{i}. and InternetGatewayDevice.QueueManagement.Queue.{i}.) or {{bibref|TR-181i2}} (Device.QoS.Classification.{i}. and Device.QoS.Queue.{i}.).
 	 *
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.tr262.fap.applicationplatform.monitoring.FemtoAwareness;
 import org.broadbandforum.tr262.fap.applicationplatform.monitoring.MMS;
 import org.broadbandforum.tr262.fap.applicationplatform.monitoring.SMS;
@@ -89,6 +90,11 @@ public class Monitoring {
 	@XmlElement(name = "TerminalLocation")
 	public TerminalLocation terminalLocation;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public Monitoring() {
 	}
 
@@ -111,6 +117,7 @@ public class Monitoring {
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -122,6 +129,7 @@ public class Monitoring {
 	 */
 	public Monitoring withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -143,6 +151,7 @@ public class Monitoring {
 	 */
 	public void  setMonitoringInterval(Long monitoringInterval) {
 		this.monitoringInterval = monitoringInterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -154,6 +163,7 @@ public class Monitoring {
 	 */
 	public Monitoring withMonitoringInterval(Long monitoringInterval) {
 		this.monitoringInterval = monitoringInterval;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -175,6 +185,7 @@ public class Monitoring {
 	 */
 	public void  setAuthenticationRequestsReceived(Long authenticationRequestsReceived) {
 		this.authenticationRequestsReceived = authenticationRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -186,6 +197,7 @@ public class Monitoring {
 	 */
 	public Monitoring withAuthenticationRequestsReceived(Long authenticationRequestsReceived) {
 		this.authenticationRequestsReceived = authenticationRequestsReceived;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -207,6 +219,7 @@ public class Monitoring {
 	 */
 	public void  setAuthenticationRequestsRejected(Long authenticationRequestsRejected) {
 		this.authenticationRequestsRejected = authenticationRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -218,6 +231,7 @@ public class Monitoring {
 	 */
 	public Monitoring withAuthenticationRequestsRejected(Long authenticationRequestsRejected) {
 		this.authenticationRequestsRejected = authenticationRequestsRejected;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
+import org.broadbandforum.common.DirtyBits;
 
 	/**
 	 * This object contains parameters for the configuration of the Assisted Global Positioning System (A-GPS) server. See also {{bibref|3GPP-TS.25.171|Section 3.2}}
@@ -115,6 +116,11 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	@XmlElement(name = "ServerInUse")
 	public Boolean serverInUse;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
 	public AGPSServerConfig() {
 	}
 
@@ -137,6 +143,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -148,6 +155,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public AGPSServerConfig withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -169,6 +177,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public void  setServerURL(String serverURL) {
 		this.serverURL = serverURL;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -180,6 +189,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public AGPSServerConfig withServerURL(String serverURL) {
 		this.serverURL = serverURL;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -201,6 +211,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public void  setServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -212,6 +223,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public AGPSServerConfig withServerPort(Long serverPort) {
 		this.serverPort = serverPort;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -233,6 +245,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -244,6 +257,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public AGPSServerConfig withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -265,6 +279,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -276,6 +291,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public AGPSServerConfig withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -305,6 +321,7 @@ Example: A latitude of 13d19.43' N would be represented as 13,323,833, derived a
 	 */
 	public void  setReferenceLatitude(Integer referenceLatitude) {
 		this.referenceLatitude = referenceLatitude;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -320,6 +337,7 @@ Example: A latitude of 13d19.43' N would be represented as 13,323,833, derived a
 	 */
 	public AGPSServerConfig withReferenceLatitude(Integer referenceLatitude) {
 		this.referenceLatitude = referenceLatitude;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -349,6 +367,7 @@ Example: A longitude of 13d19.43' E would be represented as 13,323,833, derived
 	 */
 	public void  setReferenceLongitude(Integer referenceLongitude) {
 		this.referenceLongitude = referenceLongitude;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -364,6 +383,7 @@ Example: A longitude of 13d19.43' E would be represented as 13,323,833, derived
 	 */
 	public AGPSServerConfig withReferenceLongitude(Integer referenceLongitude) {
 		this.referenceLongitude = referenceLongitude;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -389,6 +409,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public void  setServerInUse(Boolean serverInUse) {
 		this.serverInUse = serverInUse;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -402,6 +423,7 @@ After a reboot the value is {{false}} until the server could be contacted again.
 	 */
 	public AGPSServerConfig withServerInUse(Boolean serverInUse) {
 		this.serverInUse = serverInUse;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
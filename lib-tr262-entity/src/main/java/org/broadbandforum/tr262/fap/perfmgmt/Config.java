@@ -22,10 +22,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * This object contains parameters relating to File Management configuration for uploading of Performance Files to a designated File Server. Each table entry can be referenced by zero or more radio-specific objects contained in the FAPService instances. The periodic upload will upload data for all of the radio-specific objects that reference it.
@@ -107,9 +111,20 @@ If absolute time is not available to the device, its periodic file upload behavi
 	 * @since 1.0
 	 */
 	@XmlElement(name = "PeriodicUploadTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	@CWMPParameter(access = "readWrite")
 	public LocalDateTime periodicUploadTime;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public Config() {
 	}
 
@@ -132,6 +147,7 @@ If absolute time is not available to the device, its periodic file upload behavi
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -143,6 +159,7 @@ If absolute time is not available to the device, its periodic file upload behavi
 	 */
 	public Config withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -164,6 +181,8 @@ If absolute time is not available to the device, its periodic file upload behavi
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -175,6 +194,8 @@ If absolute time is not available to the device, its periodic file upload behavi
 	 */
 	public Config withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -200,6 +221,8 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public void  setUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -213,6 +236,8 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public Config withUrl(String url) {
 		this.url = url;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -234,6 +259,7 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public void  setUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -245,6 +271,7 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public Config withUsername(String username) {
 		this.username = username;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -266,6 +293,7 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public void  setPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -277,6 +305,7 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public Config withPassword(String password) {
 		this.password = password;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -298,6 +327,8 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public void  setPeriodicUploadInterval(Long periodicUploadInterval) {
 		this.periodicUploadInterval = periodicUploadInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -309,6 +340,8 @@ This argument specifies only the destination file location, and does not indicat
 	 */
 	public Config withPeriodicUploadInterval(Long periodicUploadInterval) {
 		this.periodicUploadInterval = periodicUploadInterval;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -346,6 +379,8 @@ If absolute time is not available to the device, its periodic file upload behavi
 	 */
 	public void  setPeriodicUploadTime(LocalDateTime periodicUploadTime) {
 		this.periodicUploadTime = periodicUploadTime;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -365,6 +400,8 @@ If absolute time is not available to the device, its periodic file upload behavi
 	 */
 	public Config withPeriodicUploadTime(LocalDateTime periodicUploadTime) {
 		this.periodicUploadTime = periodicUploadTime;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -22,9 +22,13 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * Child IPsec Security Association Table.  This Table is a member of the IPsec Security Association Database (SAD). {{bibref|RFC4301}}.
@@ -69,6 +73,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 * @since 1.0
 	 */
 	@XmlElement(name = "CreationTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime creationTime;
 	/**
 	 * The measured traffic in bytes transferred by the Child SA.
@@ -94,6 +99,16 @@ If {{false}} this Child SA refers to inbound traffic.
 	@CWMPParameter(activeNotify = "canDeny", units = "packets")
 	public Long replayErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public ChildSA() {
 	}
 
@@ -116,6 +131,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public void  setParentID(String parentID) {
 		this.parentID = parentID;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -127,6 +143,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public ChildSA withParentID(String parentID) {
 		this.parentID = parentID;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -148,6 +165,8 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public void  setSpi(Long spi) {
 		this.spi = spi;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -159,6 +178,8 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public ChildSA withSpi(Long spi) {
 		this.spi = spi;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -188,6 +209,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public void  setDirectionOutbound(Boolean directionOutbound) {
 		this.directionOutbound = directionOutbound;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -203,6 +225,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public ChildSA withDirectionOutbound(Boolean directionOutbound) {
 		this.directionOutbound = directionOutbound;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -224,6 +247,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public void  setCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -235,6 +259,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public ChildSA withCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -256,6 +281,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public void  setTraffic(Long traffic) {
 		this.traffic = traffic;
+		if (this.dirty != null){ this.dirty.set(4);}
 	}
 
 	/**
@@ -267,6 +293,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public ChildSA withTraffic(Long traffic) {
 		this.traffic = traffic;
+		if (this.dirty != null){ this.dirty.set(4);}
 		return this;
 	}
 
@@ -288,6 +315,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public void  setIntegrityErrors(Long integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -299,6 +327,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public ChildSA withIntegrityErrors(Long integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -320,6 +349,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public void  setReplayErrors(Long replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -331,6 +361,7 @@ If {{false}} this Child SA refers to inbound traffic.
 	 */
 	public ChildSA withReplayErrors(Long replayErrors) {
 		this.replayErrors = replayErrors;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
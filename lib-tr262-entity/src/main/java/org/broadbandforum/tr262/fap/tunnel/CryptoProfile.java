@@ -17,6 +17,7 @@ package org.broadbandforum.tr262.fap.tunnel;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import javax.validation.constraints.Size;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +29,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * This object contains parameters relating to IKEv2 and IPsec crypto profiles, which are essentially a subset of the typical IPsec SPD. {{bibref|RFC4301}}.
@@ -231,6 +234,16 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	@CWMPParameter(access = "readWrite")
 	public String secDFBit;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public CryptoProfile() {
 	}
 
@@ -253,6 +266,7 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -264,6 +278,7 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -285,6 +300,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -296,6 +313,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -325,6 +344,8 @@ In order to configure the device for both device and hosting-party authenticatio
 	 */
 	public void  setAuthMethod(String authMethod) {
 		this.authMethod = authMethod;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -340,6 +361,8 @@ In order to configure the device for both device and hosting-party authenticatio
 	 */
 	public CryptoProfile withAuthMethod(String authMethod) {
 		this.authMethod = authMethod;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -361,6 +384,7 @@ In order to configure the device for both device and hosting-party authenticatio
 	 */
 	public void  setMaxChildSA(Long maxChildSA) {
 		this.maxChildSA = maxChildSA;
+		if (this.dirty != null){ this.dirty.set(3);}
 	}
 
 	/**
@@ -372,6 +396,7 @@ In order to configure the device for both device and hosting-party authenticatio
 	 */
 	public CryptoProfile withMaxChildSA(Long maxChildSA) {
 		this.maxChildSA = maxChildSA;
+		if (this.dirty != null){ this.dirty.set(3);}
 		return this;
 	}
 
@@ -388,6 +413,19 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 		return ikeEncrypt;
 	}
 
+	/**
+	 * Read the ikev2 encryption algorithm. {{bibref|RFC4307}}
+
+For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkeEncrypt() {
+		return ikeEncrypt == null ? Collections.emptyList() : ikeEncrypt;
+	}
+
 	/**
 	 * Set the ikev2 encryption algorithm. {{bibref|RFC4307}}
 
@@ -398,6 +436,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setIkeEncrypt(Collection<String> ikeEncrypt) {
 		this.ikeEncrypt = ikeEncrypt;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -411,6 +451,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withIkeEncrypt(String string) {
 		getIkeEncrypt().add(string);
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -427,6 +469,19 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 		return ikePRF;
 	}
 
+	/**
+	 * Read the ikev2 pseudo-random function. {{bibref|RFC4307}}
+
+For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkePRF() {
+		return ikePRF == null ? Collections.emptyList() : ikePRF;
+	}
+
 	/**
 	 * Set the ikev2 pseudo-random function. {{bibref|RFC4307}}
 
@@ -437,6 +492,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setIkePRF(Collection<String> ikePRF) {
 		this.ikePRF = ikePRF;
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -450,6 +507,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withIkePRF(String string) {
 		getIkePRF().add(string);
+		if (this.dirty != null){ this.dirty.set(5);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -466,6 +525,19 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 		return ikeIntegrity;
 	}
 
+	/**
+	 * Read the ikev2 integrity function. {{bibref|RFC4307}}
+
+For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkeIntegrity() {
+		return ikeIntegrity == null ? Collections.emptyList() : ikeIntegrity;
+	}
+
 	/**
 	 * Set the ikev2 integrity function. {{bibref|RFC4307}}
 
@@ -476,6 +548,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setIkeIntegrity(Collection<String> ikeIntegrity) {
 		this.ikeIntegrity = ikeIntegrity;
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -489,6 +563,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withIkeIntegrity(String string) {
 		getIkeIntegrity().add(string);
+		if (this.dirty != null){ this.dirty.set(6);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -505,6 +581,19 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 		return ikeDH;
 	}
 
+	/**
+	 * Read the ikev2 pseudo-random function. {{bibref|RFC4307}}
+
+For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewIkeDH() {
+		return ikeDH == null ? Collections.emptyList() : ikeDH;
+	}
+
 	/**
 	 * Set the ikev2 pseudo-random function. {{bibref|RFC4307}}
 
@@ -515,6 +604,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setIkeDH(Collection<String> ikeDH) {
 		this.ikeDH = ikeDH;
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -528,6 +619,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withIkeDH(String string) {
 		getIkeDH().add(string);
+		if (this.dirty != null){ this.dirty.set(7);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -544,6 +637,19 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 		return espEncrypt;
 	}
 
+	/**
+	 * Read the ipsec encryption algorithm. {{bibref|RFC4835|Section 3.1.1}}
+
+For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEspEncrypt() {
+		return espEncrypt == null ? Collections.emptyList() : espEncrypt;
+	}
+
 	/**
 	 * Set the ipsec encryption algorithm. {{bibref|RFC4835|Section 3.1.1}}
 
@@ -554,6 +660,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setEspEncrypt(Collection<String> espEncrypt) {
 		this.espEncrypt = espEncrypt;
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -567,6 +675,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withEspEncrypt(String string) {
 		getEspEncrypt().add(string);
+		if (this.dirty != null){ this.dirty.set(8);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -583,6 +693,19 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 		return espIntegrity;
 	}
 
+	/**
+	 * Read the ipsec integrity function. {{bibref|RFC4835|Section 3.1.1}}
+
+For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
+	 *
+	 * @since 1.0
+	 * @return the value, a shared empty collection if not set. Never
+	 *         modifies this object.
+	 */
+	public Collection<String> viewEspIntegrity() {
+		return espIntegrity == null ? Collections.emptyList() : espIntegrity;
+	}
+
 	/**
 	 * Set the ipsec integrity function. {{bibref|RFC4835|Section 3.1.1}}
 
@@ -593,6 +716,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setEspIntegrity(Collection<String> espIntegrity) {
 		this.espIntegrity = espIntegrity;
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -606,6 +731,8 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withEspIntegrity(String string) {
 		getEspIntegrity().add(string);
+		if (this.dirty != null){ this.dirty.set(9);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -635,6 +762,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public void  setIpsecWindowSize(Long ipsecWindowSize) {
 		this.ipsecWindowSize = ipsecWindowSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 	}
 
 	/**
@@ -650,6 +778,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public CryptoProfile withIpsecWindowSize(Long ipsecWindowSize) {
 		this.ipsecWindowSize = ipsecWindowSize;
+		if (this.dirty != null){ this.dirty.set(10);}
 		return this;
 	}
 
@@ -675,6 +804,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public void  setIkeRekeyLifetime(Long ikeRekeyLifetime) {
 		this.ikeRekeyLifetime = ikeRekeyLifetime;
+		if (this.dirty != null){ this.dirty.set(11);}
 	}
 
 	/**
@@ -688,6 +818,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public CryptoProfile withIkeRekeyLifetime(Long ikeRekeyLifetime) {
 		this.ikeRekeyLifetime = ikeRekeyLifetime;
+		if (this.dirty != null){ this.dirty.set(11);}
 		return this;
 	}
 
@@ -713,6 +844,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public void  setIpsecRekeyLifetimeByte(Long ipsecRekeyLifetimeByte) {
 		this.ipsecRekeyLifetimeByte = ipsecRekeyLifetimeByte;
+		if (this.dirty != null){ this.dirty.set(12);}
 	}
 
 	/**
@@ -726,6 +858,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public CryptoProfile withIpsecRekeyLifetimeByte(Long ipsecRekeyLifetimeByte) {
 		this.ipsecRekeyLifetimeByte = ipsecRekeyLifetimeByte;
+		if (this.dirty != null){ this.dirty.set(12);}
 		return this;
 	}
 
@@ -751,6 +884,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public void  setIpsecRekeyLifetimeTime(Long ipsecRekeyLifetimeTime) {
 		this.ipsecRekeyLifetimeTime = ipsecRekeyLifetimeTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 	}
 
 	/**
@@ -764,6 +898,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public CryptoProfile withIpsecRekeyLifetimeTime(Long ipsecRekeyLifetimeTime) {
 		this.ipsecRekeyLifetimeTime = ipsecRekeyLifetimeTime;
+		if (this.dirty != null){ this.dirty.set(13);}
 		return this;
 	}
 
@@ -789,6 +924,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public void  setDpdTimer(Long dpdTimer) {
 		this.dpdTimer = dpdTimer;
+		if (this.dirty != null){ this.dirty.set(14);}
 	}
 
 	/**
@@ -802,6 +938,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public CryptoProfile withDpdTimer(Long dpdTimer) {
 		this.dpdTimer = dpdTimer;
+		if (this.dirty != null){ this.dirty.set(14);}
 		return this;
 	}
 
@@ -827,6 +964,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public void  setNatTKeepaliveTimer(Long natTKeepaliveTimer) {
 		this.natTKeepaliveTimer = natTKeepaliveTimer;
+		if (this.dirty != null){ this.dirty.set(15);}
 	}
 
 	/**
@@ -840,6 +978,7 @@ For UMTS devices, see {{bibref|3GPP-TS.32.582}} and {{bibref|3GPP-TS.32.584}}. F
 	 */
 	public CryptoProfile withNatTKeepaliveTimer(Long natTKeepaliveTimer) {
 		this.natTKeepaliveTimer = natTKeepaliveTimer;
+		if (this.dirty != null){ this.dirty.set(15);}
 		return this;
 	}
 
@@ -865,6 +1004,7 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setSecMaxFragSize(Long secMaxFragSize) {
 		this.secMaxFragSize = secMaxFragSize;
+		if (this.dirty != null){ this.dirty.set(16);}
 	}
 
 	/**
@@ -878,6 +1018,7 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withSecMaxFragSize(Long secMaxFragSize) {
 		this.secMaxFragSize = secMaxFragSize;
+		if (this.dirty != null){ this.dirty.set(16);}
 		return this;
 	}
 
@@ -903,6 +1044,7 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public void  setSecDFBit(String secDFBit) {
 		this.secDFBit = secDFBit;
+		if (this.dirty != null){ this.dirty.set(17);}
 	}
 
 	/**
@@ -916,6 +1058,7 @@ For CDMA2000 devices, see also {{bibref|3GPP2-S.S0132}}.
 	 */
 	public CryptoProfile withSecDFBit(String secDFBit) {
 		this.secDFBit = secDFBit;
+		if (this.dirty != null){ this.dirty.set(17);}
 		return this;
 	}
 
@@ -21,10 +21,14 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
+import org.broadbandforum.common.DirtyBits;
 import org.broadbandforum.common.IPAddress;
+import org.broadbandforum.common.InstanceTable;
+import org.broadbandforum.common.adapter.DateTimeAdapter;
 
 	/**
 	 * IKE IPsec Security Association Table. This Table is a member of the IPsec Security Association Database (SAD). {{bibref|RFC4301}}.
@@ -57,6 +61,7 @@ public class IKESA {
 	 * @since 1.0
 	 */
 	@XmlElement(name = "CreationTime")
+	@XmlJavaTypeAdapter(DateTimeAdapter.class)
 	public LocalDateTime creationTime;
 	/**
 	 * The current IP address assigned to this interface by IKEv2.
@@ -114,6 +119,16 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	@CWMPParameter(activeNotify = "canDeny")
 	public Long authErrors;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public IKESA() {
 	}
 
@@ -136,6 +151,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -147,6 +163,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withStatus(String status) {
 		this.status = status;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -168,6 +185,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setPeerAddress(IPAddress peerAddress) {
 		this.peerAddress = peerAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 	}
 
 	/**
@@ -179,6 +197,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withPeerAddress(IPAddress peerAddress) {
 		this.peerAddress = peerAddress;
+		if (this.dirty != null){ this.dirty.set(1);}
 		return this;
 	}
 
@@ -200,6 +219,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 	}
 
 	/**
@@ -211,6 +231,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withCreationTime(LocalDateTime creationTime) {
 		this.creationTime = creationTime;
+		if (this.dirty != null){ this.dirty.set(2);}
 		return this;
 	}
 
@@ -232,6 +253,8 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -243,6 +266,8 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withIpaddress(IPAddress ipaddress) {
 		this.ipaddress = ipaddress;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -264,6 +289,8 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setSubnetMask(String subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -275,6 +302,8 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withSubnetMask(String subnetMask) {
 		this.subnetMask = subnetMask;
+		if (this.dirty != null){ this.dirty.set(4);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -296,6 +325,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(5);}
 	}
 
 	/**
@@ -307,6 +337,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withDnsServers(IPAddress dnsServers) {
 		this.dnsServers = dnsServers;
+		if (this.dirty != null){ this.dirty.set(5);}
 		return this;
 	}
 
@@ -332,6 +363,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setDhcPServers(IPAddress dhcPServers) {
 		this.dhcPServers = dhcPServers;
+		if (this.dirty != null){ this.dirty.set(6);}
 	}
 
 	/**
@@ -345,6 +377,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withDhcPServers(IPAddress dhcPServers) {
 		this.dhcPServers = dhcPServers;
+		if (this.dirty != null){ this.dirty.set(6);}
 		return this;
 	}
 
@@ -366,6 +399,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setIntegrityErrors(Long integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 	}
 
 	/**
@@ -377,6 +411,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withIntegrityErrors(Long integrityErrors) {
 		this.integrityErrors = integrityErrors;
+		if (this.dirty != null){ this.dirty.set(7);}
 		return this;
 	}
 
@@ -398,6 +433,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setOtherErrors(Long otherErrors) {
 		this.otherErrors = otherErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 	}
 
 	/**
@@ -409,6 +445,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withOtherErrors(Long otherErrors) {
 		this.otherErrors = otherErrors;
+		if (this.dirty != null){ this.dirty.set(8);}
 		return this;
 	}
 
@@ -430,6 +467,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public void  setAuthErrors(Long authErrors) {
 		this.authErrors = authErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 	}
 
 	/**
@@ -441,6 +479,7 @@ A non empty list instructs the CPE to send any internal DHCP request to the addr
 	 */
 	public IKESA withAuthErrors(Long authErrors) {
 		this.authErrors = authErrors;
+		if (this.dirty != null){ this.dirty.set(9);}
 		return this;
 	}
 
@@ -25,6 +25,8 @@ import org.broadbandforum.annotation.CWMPObject;
 import org.broadbandforum.annotation.CWMPParameter;
 import org.broadbandforum.annotation.CWMPUnique;
 import org.broadbandforum.common.Alias;
+import org.broadbandforum.common.DirtyBits;
+import org.broadbandforum.common.InstanceTable;
 
 	/**
 	 * Virtual Interfaces used for associating the tunnel (ephemeral) childSA pairs with QoS Classification and Queue tables as defined in {{bibref|TR-098a2}} (InternetGatewayDevice.QueueManagement.Classification.{i}. and InternetGatewayDevice.QueueManagement.Queue.{i}.) or {{bibref|TR-181i2}} (Device.QoS.Classification.{i}. and Device.QoS.Queue.{i}.).
@@ -79,6 +81,16 @@ De-tunneled packets are never re-marked.
 	@Size(min = -2)
 	public Integer dscPMarkPolicy;
 
+	/**
+	 * The changed parameters, null unless the object is tracked.
+	 */
+	transient DirtyBits dirty;
+
+	/**
+	 * The table indexing this row by its unique keys, null unless indexed.
+	 */
+	transient InstanceTable<?> table;
+
 	public VirtualInterface() {
 	}
 
@@ -101,6 +113,7 @@ De-tunneled packets are never re-marked.
 	 */
 	public void  setEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 	}
 
 	/**
@@ -112,6 +125,7 @@ De-tunneled packets are never re-marked.
 	 */
 	public VirtualInterface withEnable(Boolean enable) {
 		this.enable = enable;
+		if (this.dirty != null){ this.dirty.set(0);}
 		return this;
 	}
 
@@ -133,6 +147,8 @@ De-tunneled packets are never re-marked.
 	 */
 	public void  setAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -144,6 +160,8 @@ De-tunneled packets are never re-marked.
 	 */
 	public VirtualInterface withAlias(Alias alias) {
 		this.alias = alias;
+		if (this.dirty != null){ this.dirty.set(1);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -165,6 +183,8 @@ De-tunneled packets are never re-marked.
 	 */
 	public void  setCryptoProfile(String cryptoProfile) {
 		this.cryptoProfile = cryptoProfile;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -176,6 +196,8 @@ De-tunneled packets are never re-marked.
 	 */
 	public VirtualInterface withCryptoProfile(String cryptoProfile) {
 		this.cryptoProfile = cryptoProfile;
+		if (this.dirty != null){ this.dirty.set(2);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 
@@ -209,6 +231,8 @@ De-tunneled packets are never re-marked.
 	 */
 	public void  setDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 	}
 
 	/**
@@ -226,6 +250,8 @@ De-tunneled packets are never re-marked.
 	 */
 	public VirtualInterface withDscPMarkPolicy(Integer dscPMarkPolicy) {
 		this.dscPMarkPolicy = dscPMarkPolicy;
+		if (this.dirty != null){ this.dirty.set(3);}
+		if (this.table != null){ this.table.reindex(this);}
 		return this;
 	}
 